@@ -0,0 +1,104 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+DatFileReaderBenchmark.java
+
+Measures the throughput of reading a words.dat-like matrix file: the old way (a
+BufferedReader, String.split() and Float.parseFloat() per value) versus DatFileReader.
+
+Usage: DatFileReaderBenchmark [numRows] [numCols] [numThreads] [reps]
+
+A synthetic file of random probabilities is written to a temporary file first.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Random;
+
+public class DatFileReaderBenchmark {
+
+	public static void main(String[] args) throws IOException {
+		int numRows    = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+		int numCols    = args.length > 1 ? Integer.parseInt(args[1]) : 50000;
+		int numThreads = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+		int reps       = args.length > 3 ? Integer.parseInt(args[3]) : 3;
+
+		File file = File.createTempFile("words", ".dat");
+		file.deleteOnExit();
+		writeMatrix(file, numRows, numCols);
+		double mb = file.length() / (double) (1 << 20);
+		System.out.printf("%d x %d matrix, %.1f MB\n", numRows, numCols, mb);
+
+		for (int rep = 0; rep < reps; ++rep){
+			long start = System.nanoTime();
+			float[][] legacy = readLegacy(file, numRows, numCols);
+			double legacySeconds = (System.nanoTime() - start) / 1e9;
+
+			start = System.nanoTime();
+			float[][] parallel = new DatFileReader(file, numThreads).readMatrix(numRows, numCols);
+			double parallelSeconds = (System.nanoTime() - start) / 1e9;
+
+			for (int i = 0; i < numRows; ++i){
+				if (!java.util.Arrays.equals(legacy[i], parallel[i])){
+					throw new IllegalStateException("Row " + i + " differs");
+				}
+			}
+
+			System.out.printf("rep %d: legacy %.3f s (%.1f MB/s), DatFileReader %.3f s (%.1f MB/s), %.1fx\n",
+					rep, legacySeconds, mb / legacySeconds, parallelSeconds, mb / parallelSeconds,
+					legacySeconds / parallelSeconds);
+		}
+	}
+
+
+	// Writes random, MALLET-looking values
+	private static void writeMatrix(File file, int numRows, int numCols) throws IOException {
+		Random random = new Random(42);
+		BufferedWriter out = new BufferedWriter(new FileWriter(file), 1 << 16);
+		try {
+			for (int i = 0; i < numRows; ++i){
+				for (int j = 0; j < numCols; ++j){
+					if (j > 0){
+						out.write(' ');
+					}
+					out.write(Float.toString(random.nextFloat() / numCols));
+				}
+				out.write('\n');
+			}
+		} finally {
+			out.close();
+		}
+	}
+
+
+	// The way LDAHelper used to read matrices
+	static float[][] readLegacy(File file, int numRows, int numCols) throws IOException {
+		float[][] matrix = new float[numRows][numCols];
+		BufferedReader br = new BufferedReader(new FileReader(file));
+		try {
+			String line;
+			int i = 0;
+			while ((line = br.readLine()) != null){
+				String[] parts = line.split("\\s+");
+				for (int j = 0; j < parts.length; ++j){
+					matrix[i][j] = Float.parseFloat(parts[j]);
+				}
+				++i;
+			}
+		} finally {
+			br.close();
+		}
+		return matrix;
+	}
+}
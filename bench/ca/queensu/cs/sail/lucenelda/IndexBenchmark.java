@@ -0,0 +1,94 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+IndexBenchmark.java
+
+JMH benchmark for SimpleIndexer.indexFile: reads a document of a synthetic corpus (see
+SyntheticData), builds its fields (including the topic fields of an LDA scenario with K
+topics), and adds it to an in-memory index. A fresh index is used for each iteration.
+
+Run with, e.g.: ant -Dbench.args="IndexBenchmark -p docLength=1000" bench
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.RAMDirectory;
+import org.apache.lucene.util.Version;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IndexBenchmark {
+
+	@Param({"32", "256"})
+	public int K;
+
+	@Param({"20000"})
+	public int W;
+
+	@Param({"2000"})
+	public int D;
+
+	@Param({"100"})
+	public int docLength;
+
+	private LDAHelper lda;
+	private File[] files;
+	private IndexWriter writer;
+	private int nextFile;
+
+	@Setup
+	public void setUp() throws IOException {
+		SyntheticData.quietLogging();
+		File modelDir = SyntheticData.tempDir("ldamodel");
+		SyntheticData.writeModel(modelDir, K, W, D);
+		lda = new LDAHelper();
+		lda.addScenario(K, modelDir.getPath());
+
+		files = SyntheticData.writeCorpus(SyntheticData.tempDir("ldacorpus"), W, D, docLength);
+	}
+
+	@Setup(Level.Iteration)
+	public void openWriter() throws IOException {
+		writer = new IndexWriter(new RAMDirectory(), new IndexWriterConfig(Version.LUCENE_35, new SimpleAnalyzer()));
+	}
+
+	@TearDown(Level.Iteration)
+	public void closeWriter() throws IOException {
+		writer.close();
+	}
+
+	@Benchmark
+	public void indexFile() throws IOException {
+		int d = nextFile;
+		nextFile = (d + 1) % D;
+		SimpleIndexer.indexFile(writer, files[d], lda);
+	}
+}
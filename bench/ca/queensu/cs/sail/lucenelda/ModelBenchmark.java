@@ -0,0 +1,112 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+ModelBenchmark.java
+
+JMH benchmarks for loading an LDA scenario and encoding its topic memberships, on
+synthetic data (see SyntheticData) of K topics, W terms and D documents:
+
+* addScenario: reads a whole scenario (vocab, files, theta and phi)
+* readFileIntoMatrix: reads words.dat, with the current loader and the old one
+* encodeTopics, encodeTopicsPayLoad: encode one document's topic memberships, as
+  the indexer does for every document
+
+Run with, e.g.: ant -Dbench.args="ModelBenchmark -p K=64,256" bench
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ModelBenchmark {
+
+	@Param({"32", "256"})
+	public int K;
+
+	@Param({"20000"})
+	public int W;
+
+	@Param({"5000"})
+	public int D;
+
+	private File modelDir;
+	private LDAHelper lda;
+	private int nextDoc;
+
+	@Setup
+	public void setUp() throws IOException {
+		SyntheticData.quietLogging();
+		modelDir = SyntheticData.tempDir("ldamodel");
+		SyntheticData.writeModel(modelDir, K, W, D);
+
+		lda = new LDAHelper();
+		lda.addScenario(K, modelDir.getPath());
+	}
+
+	// The next document to encode; cycles through all of them
+	private int nextDoc() {
+		int d = nextDoc;
+		nextDoc = (d + 1) % D;
+		return d;
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public LDAHelper addScenario() throws IOException {
+		LDAHelper helper = new LDAHelper();
+		helper.addScenario(K, modelDir.getPath());
+		return helper;
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public float[][] readFileIntoMatrix() throws IOException {
+		return lda.readFileIntoMatrix(new File(modelDir, "words.dat").getPath(), K, W);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public float[][] readFileIntoMatrixLegacy() throws IOException {
+		return DatFileReaderBenchmark.readLegacy(new File(modelDir, "words.dat"), K, W);
+	}
+
+	@Benchmark
+	public String encodeTopics() {
+		return lda.encodeTopics(nextDoc(), K);
+	}
+
+	@Benchmark
+	public String encodeTopicsPayLoad() {
+		return lda.encodeTopicsPayLoad(nextDoc(), K);
+	}
+
+	@Benchmark
+	public byte[] encodeTopicVector() {
+		return lda.encodeTopicVector(nextDoc(), K);
+	}
+}
@@ -0,0 +1,199 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+QueryBenchmark.java
+
+JMH benchmarks for both query paths, on an in-memory index of a synthetic corpus (see
+SyntheticData) of D documents, with an LDA scenario of K topics and W terms:
+
+* queryTopics: builds the topic vector of a query from its terms (as tokenized by
+  QueryTokenizer)
+* ldaQuery: executes a whole LDA query (topics, and an LDAQuery that scores every
+  matching document exactly)
+* ldaQueryTwoPass: the same, the old way (a Payload query, and re-ranking its hits)
+* reRank: re-ranks a fixed set of hits (all D documents) by conditional probability
+* computeSimilarity: the old way of scoring the same hits, by decoding each
+  document's topic string (as stored by encodeTopics)
+* vsmQuery: executes a whole VSM query, scored by VSMSimilarity
+
+Each invocation runs the next of a fixed set of queries, so that the results are not
+skewed by any one query.
+
+Run with, e.g.: ant -Dbench.args="QueryBenchmark -p K=64 -p D=20000" bench
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.RAMDirectory;
+import org.apache.lucene.util.Version;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class QueryBenchmark {
+
+	// The same as the query tools
+	private static final int MAX_HITS = 500;
+
+	private static final int NUM_QUERIES = 64;
+
+	@Param({"32", "256"})
+	public int K;
+
+	@Param({"20000"})
+	public int W;
+
+	@Param({"5000"})
+	public int D;
+
+	@Param({"20"})
+	public int queryLength;
+
+	@Param({"100"})
+	public int docLength;
+
+	private IndexReader reader;
+	private IndexSearcher ldaSearcher;
+	private IndexSearcher vsmSearcher;
+	private LDAHelper lda;
+	private LDAQueryEngine ldaEngine;
+	private LDAQueryEngine twoPassEngine;
+	private VSMQueryEngine vsmEngine;
+
+	private String[] queries;
+	private float[][] queryScores;
+	private TopDocs allHits;
+	private String[] topicStrings;
+	private TopKRanker ranker;
+	private int nextQuery;
+
+	@Setup
+	public void setUp() throws IOException {
+		SyntheticData.quietLogging();
+		File modelDir = SyntheticData.tempDir("ldamodel");
+		SyntheticData.writeModel(modelDir, K, W, D);
+		lda = new LDAHelper();
+		lda.addScenario(K, modelDir.getPath());
+
+		// Index the corpus in memory
+		File corpusDir = SyntheticData.tempDir("ldacorpus");
+		File[] files = SyntheticData.writeCorpus(corpusDir, W, D, docLength);
+		RAMDirectory dir = new RAMDirectory();
+		IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig(Version.LUCENE_35, new SimpleAnalyzer()));
+		for (int d = 0; d < files.length; ++d){
+			SimpleIndexer.indexFile(writer, files[d], lda);
+		}
+		writer.close();
+
+		reader = IndexReader.open(dir, true);
+		BooleanQuery.setMaxClauseCount(8092);
+		ldaSearcher = new IndexSearcher(reader);
+		vsmSearcher = new IndexSearcher(reader);
+		vsmSearcher.setSimilarity(new VSMSimilarity());
+		ldaEngine = new LDAQueryEngine(ldaSearcher, lda, K, MAX_HITS);
+		twoPassEngine = new LDAQueryEngine(ldaSearcher, lda, K, MAX_HITS, true);
+		vsmEngine = new VSMQueryEngine(vsmSearcher, MAX_HITS);
+
+		queries = SyntheticData.queries(NUM_QUERIES, W, queryLength);
+		queryScores = new float[NUM_QUERIES][K];
+		QueryTokenizer tokens = QueryTokenizer.get();
+		for (int q = 0; q < NUM_QUERIES; ++q){
+			tokens.tokenize(queries[q]);
+			ldaEngine.queryTopics(tokens, queryScores[q]);
+		}
+
+		// Every document is a hit, for reRank and computeSimilarity
+		allHits = ldaSearcher.search(new MatchAllDocsQuery(), D);
+		topicStrings = new String[D];
+		for (int i = 0; i < allHits.scoreDocs.length; ++i){
+			topicStrings[i] = lda.encodeTopics(i, K);
+		}
+		ranker = new TopKRanker(MAX_HITS);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		reader.close();
+	}
+
+	// The next query to run; cycles through all of them
+	private int nextQuery() {
+		int q = nextQuery;
+		nextQuery = (q + 1) % NUM_QUERIES;
+		return q;
+	}
+
+	@Benchmark
+	public float[] queryTopics() {
+		float[] scores = queryScores[0].clone();
+		QueryTokenizer tokens = QueryTokenizer.get();
+		tokens.tokenize(queries[nextQuery()]);
+		ldaEngine.queryTopics(tokens, scores);
+		return scores;
+	}
+
+	@Benchmark
+	public QueryResult ldaQuery() throws Exception {
+		int q = nextQuery();
+		return ldaEngine.execute("q" + q, queries[q]);
+	}
+
+	@Benchmark
+	public QueryResult ldaQueryTwoPass() throws Exception {
+		int q = nextQuery();
+		return twoPassEngine.execute("q" + q, queries[q]);
+	}
+
+	@Benchmark
+	public TopKRanker reRank() throws IOException {
+		lda.reRank(ldaSearcher, allHits, queryScores[nextQuery()], K, ranker);
+		return ranker;
+	}
+
+	@Benchmark
+	public float computeSimilarity() {
+		float[] scores = queryScores[nextQuery()];
+		float sum = 0;
+		for (int i = 0; i < topicStrings.length; ++i){
+			sum += lda.computeSimilarity(topicStrings[i], scores, K);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public QueryResult vsmQuery() throws Exception {
+		int q = nextQuery();
+		return vsmEngine.execute("q" + q, queries[q]);
+	}
+}
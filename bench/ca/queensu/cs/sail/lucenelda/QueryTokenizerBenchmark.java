@@ -0,0 +1,201 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+QueryTokenizerBenchmark.java
+
+JMH benchmarks of the front end of both query paths: the regular expressions that
+sanitized and split every query (the old way) versus QueryTokenizer, on queries shaped
+like bug reports (terms of a vocabulary of W terms, with punctuation, numbers, line
+breaks and the occasional '^'):
+
+* sanitizeRegex, sanitize: sanitizes a query, checks that it is not blank, and splits
+  it into terms
+* termIdsRegex, termIds: the same, and looks up the id of each term in the LDA
+  vocabulary (the input of the LDA path)
+* vsmQueryParse, vsmQuery: the same, and builds the VSM query (the input of the VSM
+  path), by parsing the sanitized text or by QueryTokenizer.query()
+
+Before measuring, the setup checks that both ways give the same terms, term ids and
+queries for every query.
+
+Run with, e.g.: ant -Dbench.args="QueryTokenizerBenchmark -p queryLength=200" bench
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.queryParser.MultiFieldQueryParser;
+import org.apache.lucene.queryParser.ParseException;
+import org.apache.lucene.queryParser.QueryParser;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.Version;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class QueryTokenizerBenchmark {
+
+	private static final int NUM_QUERIES = 64;
+	private static final int K = 32;
+	private static final int D = 100;
+
+	// What the terms of a query are separated by, or decorated with
+	private static final String[] SEPARATORS = {" ", " ", " ", ". ", ", ", "\n", "(", ") ", "_", " #", "::", "^2 ", "-"};
+
+	@Param({"20000"})
+	public int W;
+
+	@Param({"20", "200"})
+	public int queryLength;
+
+	private LDAHelper.LDAK ldak;
+	private QueryParser parser;
+	private String[] queries;
+	private int nextQuery;
+
+	@Setup
+	public void setUp() throws IOException, ParseException {
+		SyntheticData.quietLogging();
+		File modelDir = SyntheticData.tempDir("ldamodel");
+		SyntheticData.writeModel(modelDir, K, W, D);
+		LDAHelper lda = new LDAHelper();
+		lda.addScenario(K, modelDir.getPath());
+		ldak = lda.scens.get(lda.which(K));
+		parser = new MultiFieldQueryParser(Version.LUCENE_35, new String[] {"data"}, new SimpleAnalyzer());
+
+		// Decorate the synthetic queries like bug reports
+		Random random = new Random(42);
+		queries = SyntheticData.queries(NUM_QUERIES, W, queryLength);
+		for (int q = 0; q < NUM_QUERIES; ++q){
+			String[] terms = queries[q].split(" ");
+			StringBuilder sb = new StringBuilder();
+			for (String term : terms){
+				sb.append(term);
+				if (random.nextInt(8) == 0){
+					sb.append(random.nextInt(100));
+				}
+				sb.append(SEPARATORS[random.nextInt(SEPARATORS.length)]);
+			}
+			queries[q] = sb.toString();
+		}
+
+		// Both ways must agree
+		for (String query : queries){
+			String[] terms = sanitizeRegex(query);
+			QueryTokenizer tokens = QueryTokenizer.get();
+			if (!tokens.tokenize(query) || tokens.size() != terms.length){
+				throw new IllegalStateException("Different terms for: " + query);
+			}
+			for (int i = 0; i < terms.length; ++i){
+				if (!terms[i].equals(tokens.term(i))){
+					throw new IllegalStateException("Different terms for: " + query);
+				}
+			}
+			if (!Arrays.equals(termIdsRegex(terms), Arrays.copyOf(tokens.termIds(ldak), terms.length))){
+				throw new IllegalStateException("Different term ids for: " + query);
+			}
+			Query parsed = parser.parse(query.replaceAll("\\^.", " ").replaceAll("[1234567890\\p{Punct}\\n]", " "));
+			if (!parsed.rewrite(null).rewrite(null).equals(tokens.query("data", parser))){
+				throw new IllegalStateException("Different queries for: " + query);
+			}
+		}
+	}
+
+	// The next query to run; cycles through all of them
+	private String nextQuery() {
+		int q = nextQuery;
+		nextQuery = (q + 1) % NUM_QUERIES;
+		return queries[q];
+	}
+
+	// The old way: sanitize, check for blanks, and split
+	private static String[] sanitizeRegex(String query) {
+		query = query.replaceAll("\\^.", " ");
+		query = query.replaceAll("[1234567890\\p{Punct}\\n]", " ");
+		if (query.matches("^\\s*$")){
+			return new String[0];
+		}
+		String[] terms = query.split("\\s+");
+		return terms.length > 0 && terms[0].length() == 0 ? Arrays.copyOfRange(terms, 1, terms.length) : terms;
+	}
+
+	private int[] termIdsRegex(String[] terms) {
+		int[] ids = new int[terms.length];
+		for (int i = 0; i < terms.length; ++i){
+			ids[i] = ldak.getTermId(terms[i]);
+		}
+		return ids;
+	}
+
+	@Benchmark
+	public String[] sanitizeRegex() {
+		return sanitizeRegex(nextQuery());
+	}
+
+	@Benchmark
+	public int sanitize() {
+		QueryTokenizer tokens = QueryTokenizer.get();
+		tokens.tokenize(nextQuery());
+		int chars = 0;
+		for (int i = 0; i < tokens.size(); ++i){
+			chars += tokens.term(i).length();
+		}
+		return chars;
+	}
+
+	@Benchmark
+	public int[] termIdsRegex() {
+		return termIdsRegex(sanitizeRegex(nextQuery()));
+	}
+
+	@Benchmark
+	public int[] termIds() {
+		QueryTokenizer tokens = QueryTokenizer.get();
+		tokens.tokenize(nextQuery());
+		return tokens.termIds(ldak);
+	}
+
+	@Benchmark
+	public Query vsmQueryParse() throws ParseException {
+		String query = nextQuery();
+		query = query.replaceAll("\\^.", " ");
+		query = query.replaceAll("[1234567890\\p{Punct}\\n]", " ");
+		if (query.matches("^\\s*$")){
+			return null;
+		}
+		return parser.parse(query);
+	}
+
+	@Benchmark
+	public Query vsmQuery() throws ParseException {
+		QueryTokenizer tokens = QueryTokenizer.get();
+		if (!tokens.tokenize(nextQuery())){
+			return null;
+		}
+		return tokens.query("data", parser);
+	}
+}
@@ -0,0 +1,188 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+SyntheticData.java
+
+Generates the inputs for the benchmarks: the output of an LDA execution (vocab.dat,
+words.dat, theta.dat and files.dat) with K topics, W terms and D documents; a corpus of
+D documents over the same vocabulary; and queries.
+
+The data is random, but shaped roughly like the real thing: each topic puts most of its
+weight on a few terms, and each document on a few topics. Everything is seeded, so
+every run of a benchmark sees the same data.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Random;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.log4j.BasicConfigurator;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+
+class SyntheticData {
+
+	private static final long SEED = 42;
+
+	private SyntheticData() {
+	}
+
+	/**
+	 * Quiets the logging of the code under test, which would otherwise dominate some of
+	 * the benchmarks.
+	 */
+	static void quietLogging() {
+		Logger logger = Logger.getRootLogger();
+		if (!logger.getAllAppenders().hasMoreElements()) {
+			BasicConfigurator.configure();
+		}
+		logger.setLevel(Level.WARN);
+	}
+
+	// A temporary directory, deleted when the JVM exits
+	static File tempDir(String prefix) throws IOException {
+		final File dir = File.createTempFile(prefix, "");
+		if (!dir.delete() || !dir.mkdir()){
+			throw new IOException("Cannot create temporary directory " + dir);
+		}
+		Runtime.getRuntime().addShutdownHook(new Thread() {
+			public void run() {
+				FileUtils.deleteQuietly(dir);
+			}
+		});
+		return dir;
+	}
+
+	// The i'th term of the vocabulary. Terms are letters only, so that the query
+	// sanitizing (which removes digits) leaves them alone.
+	static String term(int i) {
+		StringBuilder sb = new StringBuilder("t");
+		do {
+			sb.append((char) ('a' + i % 26));
+			i /= 26;
+		} while (i > 0);
+		return sb.toString();
+	}
+
+	// The file name of the d'th document
+	static String fileName(int d) {
+		return "doc" + d + ".txt";
+	}
+
+	/**
+	 * Writes vocab.dat, words.dat, theta.dat and files.dat to the given directory.
+	 */
+	static void writeModel(File dir, int K, int W, int D) throws IOException {
+		Random random = new Random(SEED);
+
+		BufferedWriter out = writer(new File(dir, "vocab.dat"));
+		for (int w = 0; w < W; ++w){
+			out.write(term(w));
+			out.write('\n');
+		}
+		out.close();
+
+		out = writer(new File(dir, "words.dat"));
+		float[] row = new float[W];
+		for (int k = 0; k < K; ++k){
+			writeRow(out, peaked(random, row));
+		}
+		out.close();
+
+		out = writer(new File(dir, "theta.dat"));
+		row = new float[K];
+		for (int d = 0; d < D; ++d){
+			writeRow(out, peaked(random, row));
+		}
+		out.close();
+
+		out = writer(new File(dir, "files.dat"));
+		for (int d = 0; d < D; ++d){
+			out.write(d + " " + fileName(d) + " 0\n");
+		}
+		out.close();
+	}
+
+	/**
+	 * Writes D documents of docLength terms each to the given directory, and registers
+	 * their file codes with SimpleIndexer.
+	 */
+	static File[] writeCorpus(File dir, int W, int D, int docLength) throws IOException {
+		Random random = new Random(SEED + 1);
+		File[] files = new File[D];
+		for (int d = 0; d < D; ++d){
+			files[d] = new File(dir, fileName(d));
+			BufferedWriter out = writer(files[d]);
+			for (int i = 0; i < docLength; ++i){
+				out.write(term(skewed(random, W)));
+				out.write(i % 16 == 15 ? '\n' : ' ');
+			}
+			out.close();
+			SimpleIndexer.fileCodes.put(fileName(d), d);
+		}
+		return files;
+	}
+
+	/**
+	 * Generates n queries of queryLength terms each.
+	 */
+	static String[] queries(int n, int W, int queryLength) {
+		Random random = new Random(SEED + 2);
+		String[] queries = new String[n];
+		for (int q = 0; q < n; ++q){
+			StringBuilder sb = new StringBuilder();
+			for (int i = 0; i < queryLength; ++i){
+				if (i > 0){
+					sb.append(' ');
+				}
+				sb.append(term(skewed(random, W)));
+			}
+			queries[q] = sb.toString();
+		}
+		return queries;
+	}
+
+	// A term id, skewed towards the small ones (roughly like term frequencies are)
+	private static int skewed(Random random, int W) {
+		double u = random.nextDouble();
+		return (int) (W * u * u * u);
+	}
+
+	// Fills row with a probability distribution that has most of its mass on a few entries
+	private static float[] peaked(Random random, float[] row) {
+		float sum = 0;
+		for (int i = 0; i < row.length; ++i){
+			float u = random.nextFloat();
+			row[i] = u * u * u * u * u * u * u * u;
+			sum += row[i];
+		}
+		for (int i = 0; i < row.length; ++i){
+			row[i] /= sum;
+		}
+		return row;
+	}
+
+	private static void writeRow(BufferedWriter out, float[] row) throws IOException {
+		for (int i = 0; i < row.length; ++i){
+			if (i > 0){
+				out.write(' ');
+			}
+			out.write(Float.toString(row[i]));
+		}
+		out.write('\n');
+	}
+
+	private static BufferedWriter writer(File f) throws IOException {
+		return new BufferedWriter(new FileWriter(f), 1 << 16);
+	}
+}
@@ -0,0 +1,202 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+AnnRecallReport.java
+
+(Invoked from command line, or via main() method.)
+
+Measures the recall/latency trade-off of the approximate topic vector index (see
+TopicVectorIndex), so that ef can be chosen for queryWithLDA --ann. Every query in the
+given directory is run against the given index and LDA index:
+
+* exact: every document in the topic vector index is scored (ef = 0); this is the
+  baseline
+* lucene: the usual LDAQuery, which scores every document that shares a topic with the
+  query (by conditional probability, so it matches the baseline only if the index was
+  built with --annMetric innerProduct)
+* ef=N: an approximate search, for each given ef
+
+For each, the report gives recall@N (the share of the baseline's top N documents that
+are in the top N, averaged over the queries), identical@N (the share of queries whose
+top N documents are the same, in the same order; see PhiDriftReport.compare()) and the
+time per query.
+
+The index must have been built with --annMetric.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.File;
+import java.util.Map;
+
+import org.apache.log4j.BasicConfigurator;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.store.NIOFSDirectory;
+
+import com.martiansoftware.jsap.FlaggedOption;
+import com.martiansoftware.jsap.JSAP;
+import com.martiansoftware.jsap.JSAPResult;
+import com.martiansoftware.jsap.Switch;
+import com.martiansoftware.jsap.UnflaggedOption;
+
+public class AnnRecallReport {
+
+	// The same as the query tools
+	private static final int MAX_HITS = 500;
+
+	private static final Logger logger = Logger.getRootLogger();
+
+	public static void main(String[] args) throws Exception {
+
+		// Set up the Apache log4j logger, only if we need to (another class or test case or ant
+		// may have already set up the logger.)
+		if (!logger.getAllAppenders().hasMoreElements()) {
+			BasicConfigurator.configure();
+			logger.setLevel(Level.INFO);
+		}
+
+		JSAP jsap = new JSAP();
+
+		UnflaggedOption opt0 = new UnflaggedOption("indexDir").setStringParser(
+				JSAP.STRING_PARSER).setRequired(true);
+		opt0.setHelp("The directory containing the pre-build Lucene index (built with --annMetric).");
+
+		UnflaggedOption opt0a = new UnflaggedOption("LDAIndexDir").setStringParser(
+				JSAP.STRING_PARSER).setRequired(true);
+		opt0a.setHelp("The directory containing the pre-build LDA index.");
+
+		UnflaggedOption opt1 = new UnflaggedOption("queryDir").setStringParser(
+				JSAP.STRING_PARSER).setRequired(true);
+		opt1.setHelp("The input directory containing queries to run against the specified index.");
+
+		FlaggedOption opt2 = new FlaggedOption("K")
+				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+				.setLongFlag("K").setDefault("0");
+		opt2.setHelp("If multiple LDA configuration were run (i.e., multiple Ks), then specify which one to use."
+				+ "Default: the lowest K.");
+
+		FlaggedOption opt3 = new FlaggedOption("ef")
+				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+				.setList(true).setListSeparator(',')
+				.setLongFlag("ef").setDefault("10,50,100,200");
+		opt3.setHelp("The values of ef to measure. Default: 10,50,100,200.");
+
+		FlaggedOption opt4 = new FlaggedOption("depth")
+				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+				.setLongFlag("depth").setDefault("10");
+		opt4.setHelp("The number of top documents (N) of each query to compare. Default: 10.");
+
+		FlaggedOption opt5 = new FlaggedOption("threads")
+				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+				.setLongFlag("threads").setDefault("0");
+		opt5.setHelp("The number of queries to execute concurrently. Default: one per available processor.");
+
+		Switch sw0 = new Switch("help").setDefault("false").setLongFlag("help");
+		sw0.setHelp("Prints this message.");
+
+		jsap.registerParameter(sw0);
+		jsap.registerParameter(opt0);
+		jsap.registerParameter(opt0a);
+		jsap.registerParameter(opt1);
+		jsap.registerParameter(opt2);
+		jsap.registerParameter(opt3);
+		jsap.registerParameter(opt4);
+		jsap.registerParameter(opt5);
+
+		// check whether the command line was valid, and if it wasn't,
+		// display usage information and exit.
+		JSAPResult config = jsap.parse(args);
+		if (!config.success()) {
+			for (java.util.Iterator<?> errs = config.getErrorMessageIterator(); errs
+					.hasNext();) {
+				logger.error("Error: " + errs.next());
+			}
+			displayHelp(config, jsap);
+			return;
+		}
+
+		if (config.getBoolean("help")) {
+			displayHelp(config, jsap);
+			return;
+		}
+
+		int K = config.getInt("K");
+		int depth = config.getInt("depth");
+		File queryDir = new File(config.getString("queryDir"));
+		File indexDir = new File(config.getString("indexDir"));
+		QueryExecutor executor = new QueryExecutor(config.getInt("threads"), false);
+
+		LDAHelper lda = LDAHelper.load(config.getString("LDAIndexDir"));
+		LDAHelper.LDAK ldak;
+		try {
+			ldak = lda.scens.get(lda.which(K));
+		} catch (IllegalArgumentException e) {
+			logger.error("Error: " + e.getMessage());
+			return;
+		}
+
+		IndexReader reader = IndexReader.open(NIOFSDirectory.open(indexDir), true);
+		try {
+			IndexSearcher searcher = new IndexSearcher(reader);
+			TopicVectorIndex vectorIndex = TopicVectorIndex.open(indexDir, reader, ldak.K);
+			if (vectorIndex == null){
+				return;
+			}
+
+			// (The first run also loads the topic vector columns, so it is not timed)
+			LDAQueryEngine engine = new LDAQueryEngine(searcher, lda, K, MAX_HITS);
+			PhiDriftReport.run(executor, queryDir, engine);
+			engine.setTopicVectorIndex(vectorIndex, 0);
+			long start = System.nanoTime();
+			Map<String, QueryResult> baseline = PhiDriftReport.run(executor, queryDir, engine);
+			double seconds = (System.nanoTime() - start) / 1e9;
+
+			StringBuilder report = new StringBuilder();
+			report.append(String.format("Topic vector index recall for K=%d (%s, %d documents) over %d queries (N=%d)%n",
+					ldak.K, vectorIndex.metric.name().toLowerCase(), vectorIndex.size(), baseline.size(), depth));
+			report.append(String.format("%-8s %10s %13s %10s%n", "search", "recall@" + depth, "identical@" + depth, "ms/query"));
+			report.append(row("exact", new double[] {1, 1}, seconds, baseline.size()));
+
+			engine.setTopicVectorIndex(null, 0);
+			start = System.nanoTime();
+			Map<String, QueryResult> results = PhiDriftReport.run(executor, queryDir, engine);
+			seconds = (System.nanoTime() - start) / 1e9;
+			report.append(row("lucene", PhiDriftReport.compare(baseline, results, depth), seconds, baseline.size()));
+
+			for (int ef : config.getIntArray("ef")){
+				engine.setTopicVectorIndex(vectorIndex, ef);
+				start = System.nanoTime();
+				results = PhiDriftReport.run(executor, queryDir, engine);
+				seconds = (System.nanoTime() - start) / 1e9;
+				report.append(row("ef=" + ef, PhiDriftReport.compare(baseline, results, depth), seconds, baseline.size()));
+			}
+			System.out.print(report);
+		} finally {
+			reader.close();
+		}
+	}
+
+	// One line of the report
+	private static String row(String search, double[] drift, double seconds, int numQueries) {
+		return String.format("%-8s %10.4f %13.4f %10.3f%n", search, drift[0], drift[1], 1000 * seconds / Math.max(1, numQueries));
+	}
+
+
+	/* Use JSAP to display command-line usage information */
+	private static void displayHelp(JSAPResult config, JSAP jsap) {
+		System.err.println();
+		System.err.println("Usage: java " + AnnRecallReport.class.getName());
+		System.err.println("                " + jsap.getUsage());
+		System.err.println();
+		System.err.println(jsap.getHelp());
+		System.err.println();
+	}
+}
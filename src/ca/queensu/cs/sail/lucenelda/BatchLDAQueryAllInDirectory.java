@@ -0,0 +1,283 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+BatchLDAQueryAllInDirectory.java
+
+(Invoked from command line, or via main() method.)
+
+This command-line class reads all queries in the given directory, and scores them all at
+once against every document of a specified (prebuilt) index using LDA (see BatchScorer),
+rather than one search per query. The top documents of each query are output in a given
+output directory, in the same format as LDAQueryAllInDirectory; with --scoreMatrix, the
+score of every document for every query is also written to a binary matrix file. As with
+LDAQueryAllInDirectory, the queries may instead be read from a single file (or stdin),
+and the results written to a single run file.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.log4j.BasicConfigurator;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.store.NIOFSDirectory;
+
+import com.martiansoftware.jsap.FlaggedOption;
+import com.martiansoftware.jsap.JSAP;
+import com.martiansoftware.jsap.JSAPResult;
+import com.martiansoftware.jsap.Switch;
+import com.martiansoftware.jsap.UnflaggedOption;
+
+public class BatchLDAQueryAllInDirectory {
+
+	private static final Logger logger = Logger.getRootLogger();
+
+	public static void main(String[] args) throws Exception {
+
+		// Set up the Apache log4j logger, only if we need to (another class or test case or ant
+		// may have already set up the logger.)
+		if (!logger.getAllAppenders().hasMoreElements()) {
+			BasicConfigurator.configure();
+			logger.setLevel(Level.INFO);
+		}
+
+		JSAP jsap = new JSAP();
+
+		UnflaggedOption opt0 = new UnflaggedOption("indexDir").setStringParser(
+				JSAP.STRING_PARSER).setRequired(true);
+		opt0.setHelp("The directory containing the pre-build Lucene index.");
+
+		UnflaggedOption opt0a = new UnflaggedOption("LDAIndexDir").setStringParser(
+				JSAP.STRING_PARSER).setRequired(true);
+		opt0a.setHelp("The directory containing the pre-build LDA index.");
+
+		UnflaggedOption opt1 = new UnflaggedOption("queryDir").setStringParser(
+				JSAP.STRING_PARSER).setRequired(true);
+		opt1.setHelp("The input directory containing queries to run against the specified index, one per file; or a file "
+				+ "of queries, or - for stdin (see --queryFormat).");
+
+		UnflaggedOption opt2 = new UnflaggedOption("resultsDir").setStringParser(
+				JSAP.STRING_PARSER).setRequired(true);
+		opt2.setHelp("The output directory for the results of each query: one file per original query in queryDirName; "
+				+ "or, with --runFormat trec or binary, the run file to write, or - for stdout.");
+
+		FlaggedOption opt3 = new FlaggedOption("K")
+				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+				.setLongFlag("K").setDefault("0");
+		opt3.setHelp("If multiple LDA configuration were run (i.e., multiple Ks), then specify which one to use."
+				+ "Default: the lowest K.");
+
+		FlaggedOption opt4 = new FlaggedOption("maxHits")
+				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+				.setLongFlag("maxHits").setDefault("500");
+		opt4.setHelp("The number of top documents to write for each query; at least the number of documents gives full "
+				+ "rankings, and 0 writes no results (e.g., with --scoreMatrix). Default: 500.");
+
+		FlaggedOption opt5 = new FlaggedOption("scoreMatrix")
+				.setStringParser(JSAP.STRING_PARSER).setRequired(false)
+				.setLongFlag("scoreMatrix");
+		opt5.setHelp("If given, also write the score of every document for every query to this file (see BatchScorer "
+				+ "for the format).");
+
+		FlaggedOption opt6 = new FlaggedOption("phiEpsilon")
+				.setStringParser(JSAP.FLOAT_PARSER).setRequired(false)
+				.setLongFlag("phiEpsilon").setDefault("0");
+		opt6.setHelp("Weights of a term in a topic at or below this value are ignored when computing the topics "
+				+ "of a query. Default: 0 (only exact zeros are ignored).");
+
+		FlaggedOption opt7 = new FlaggedOption("threads")
+				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+				.setLongFlag("threads").setDefault("0");
+		opt7.setHelp("The number of threads to score with. Default: one per available processor.");
+
+		FlaggedOption opt9 = new FlaggedOption("queryFormat")
+				.setStringParser(JSAP.STRING_PARSER).setRequired(false)
+				.setLongFlag("queryFormat").setDefault("auto");
+		opt9.setHelp("If queryDir is a file of queries (or - for stdin) rather than a directory, their format: tsv (a name, "
+				+ "a tab and the query text on each line), jsonl ({\"id\": ..., \"text\": ...} on each line), or auto "
+				+ "(jsonl if the file name ends with .jsonl or .json, and tsv otherwise). Default: auto.");
+
+		FlaggedOption opt10 = new FlaggedOption("runFormat")
+				.setStringParser(JSAP.STRING_PARSER).setRequired(false)
+				.setLongFlag("runFormat").setDefault("files");
+		opt10.setHelp("How to write the results: files (one file per query, in the directory resultsDir), trec (one TREC "
+				+ "run file, resultsDir, or - for stdout) or binary (one compact run file; see RunWriter). Default: files.");
+
+		FlaggedOption opt11 = new FlaggedOption("runTag")
+				.setStringParser(JSAP.STRING_PARSER).setRequired(false)
+				.setLongFlag("runTag").setDefault("lda");
+		opt11.setHelp("The name of the run, in the last column of a trec run file. Default: lda.");
+
+		FlaggedOption opt8 = new FlaggedOption("metrics")
+				.setStringParser(JSAP.STRING_PARSER).setRequired(false)
+				.setLongFlag("metrics");
+		opt8.setHelp("If given, write the timings and counters of each phase of the run to this file: as CSV if its "
+				+ "name ends with .csv, and as JSON otherwise. See Metrics.");
+
+		Switch sw0 = new Switch("help").setDefault("false").setLongFlag("help");
+		sw0.setHelp("Prints this message.");
+
+		jsap.registerParameter(sw0);
+		jsap.registerParameter(opt0);
+		jsap.registerParameter(opt0a);
+		jsap.registerParameter(opt1);
+		jsap.registerParameter(opt2);
+		jsap.registerParameter(opt3);
+		jsap.registerParameter(opt4);
+		jsap.registerParameter(opt5);
+		jsap.registerParameter(opt6);
+		jsap.registerParameter(opt7);
+		jsap.registerParameter(opt8);
+		jsap.registerParameter(opt9);
+		jsap.registerParameter(opt10);
+		jsap.registerParameter(opt11);
+
+		// check whether the command line was valid, and if it wasn't,
+		// display usage information and exit.
+		JSAPResult config = jsap.parse(args);
+		if (!config.success()) {
+			for (java.util.Iterator<?> errs = config.getErrorMessageIterator(); errs
+					.hasNext();) {
+				logger.error("Error: " + errs.next());
+			}
+			displayHelp(config, jsap);
+			return;
+		}
+
+		if (config.getBoolean("help")) {
+			displayHelp(config, jsap);
+			return;
+		}
+
+		RunWriter.Format runFormat;
+		try {
+			runFormat = RunWriter.Format.parse(config.getString("runFormat"));
+			QueryReader.Format.parse(config.getString("queryFormat"), config.getString("queryDir"));
+		} catch (IllegalArgumentException e) {
+			logger.error("Error: " + e.getMessage());
+			return;
+		}
+		if (config.getString("resultsDir").equals("-")){
+			RunWriter.logToStderr();
+		}
+
+		int K = config.getInt("K");
+
+		// Open the LDA index (memory-mapped, so this is cheap)
+		LDAHelper lda = LDAHelper.load(config.getString("LDAIndexDir"));
+		lda.setTermTopicEpsilon(config.getFloat("phiEpsilon"));
+		LDAHelper.LDAK ldak;
+		try {
+			ldak = lda.scens.get(lda.which(K));
+		} catch (IllegalArgumentException e) {
+			logger.error("Error: " + e.getMessage());
+			return;
+		}
+
+		long openStart = System.nanoTime();
+		IndexReader reader = IndexReader.open(NIOFSDirectory.open(new File(config.getString("indexDir"))), true);
+		Metrics.OPEN_INDEX.since(openStart);
+		try {
+			// The topic vector of every (non-blank) query, in order
+			LDAQueryEngine engine = new LDAQueryEngine(new IndexSearcher(reader), lda, K, 0);
+			List<String> names = new ArrayList<String>();
+			List<float[]> queries = new ArrayList<float[]>();
+			int[] topics = new int[ldak.K];
+			for (String[] named : readQueries(config.getString("queryDir"), config.getString("queryFormat"))){
+				long t = System.nanoTime();
+				Metrics.QUERIES.increment();
+				QueryTokenizer tokens = QueryTokenizer.get();
+				if (!tokens.tokenize(named[1])){
+					Metrics.BLANK_QUERIES.increment();
+					continue;
+				}
+				Metrics.SANITIZE.since(t);
+				float[] vector = new float[ldak.K];
+				engine.queryVector(tokens, vector, topics);
+				names.add(named[0]);
+				queries.add(vector);
+			}
+
+			BatchScorer scorer = new BatchScorer(reader, ldak.K);
+			scorer.setNumThreads(config.getInt("threads"));
+			String scoreMatrix = config.getString("scoreMatrix");
+			long t = System.nanoTime();
+			QueryResult[] results = scorer.score(names.toArray(new String[names.size()]),
+					queries.toArray(new float[queries.size()][]), config.getInt("maxHits"),
+					scoreMatrix == null ? null : new File(scoreMatrix));
+			Metrics.SEARCH.since(t);
+			if (results != null){
+				RunWriter out = new RunWriter(config.getString("resultsDir"), runFormat, config.getString("runTag"));
+				try {
+					for (QueryResult result : results){
+						Metrics.HITS.add(result.size());
+						out.write(result);
+					}
+				} finally {
+					out.close();
+				}
+			}
+		} finally {
+			reader.close();
+		}
+		if (config.contains("metrics")){
+			Metrics.writeTo(new File(config.getString("metrics")));
+		}
+	}
+
+	// Reads every query, as {name, text}: the files of the given directory, in order of
+	// their names, or the queries of the given file (or stdin; see QueryReader)
+	private static List<String[]> readQueries(String path, String format) throws IOException {
+		List<String[]> queries = new ArrayList<String[]>();
+		File dir = new File(path);
+		if (!path.equals("-") && dir.isDirectory()){
+			File[] files = dir.listFiles();
+			Arrays.sort(files, new Comparator<File>() {
+				public int compare(File a, File b) {
+					return a.getName().compareTo(b.getName());
+				}
+			});
+			for (File f : files){
+				if (f.isDirectory() || f.isHidden() || !f.canRead()){
+					continue;
+				}
+				queries.add(new String[] {f.getName(), FileUtils.readFileToString(f)});
+			}
+			return queries;
+		}
+		QueryReader reader = QueryReader.open(path, format);
+		try {
+			String[] query;
+			while ((query = reader.next()) != null){
+				queries.add(query);
+			}
+		} finally {
+			reader.close();
+		}
+		return queries;
+	}
+
+	/* Use JSAP to display command-line usage information */
+	private static void displayHelp(JSAPResult config, JSAP jsap) {
+		System.err.println();
+		System.err.println("Usage: java " + BatchLDAQueryAllInDirectory.class.getName());
+		System.err.println("                " + jsap.getUsage());
+		System.err.println();
+		System.err.println(jsap.getHelp());
+		System.err.println();
+	}
+}
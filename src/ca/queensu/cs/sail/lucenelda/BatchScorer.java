@@ -0,0 +1,277 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+BatchScorer.java
+
+Scores a whole batch of queries against every document of an index at once, by LDA
+conditional probability, for offline evaluations that need full rankings rather than
+the top maxHits of each query.
+
+The topic vectors of the live documents are packed, once, into a dense D x K matrix
+(theta, row-major, in docId order; see TopicVectorColumn), and the query topic vectors
+are stacked into a Q x K matrix. The Q x D score matrix is their product, computed in
+blocks: each task takes a block of QUERY_BLOCK queries (small enough to stay in cache)
+and streams every document row past all of them, one chunk of DOC_CHUNK documents at a
+time, so each document row is read from memory once per block, not once per query. The
+blocks are spread over a pool of threads.
+
+After each chunk, the scores are:
+
+* offered to a per-query TopKRanker (when maxHits > 0), which keeps the top maxHits
+  documents with a score above 0; and/or
+* written to a score matrix file (when one is given), at the chunk's place in the rows
+  of its queries, so the full matrix never has to be held in memory.
+
+The score matrix file is a 16-byte header ("LDAS", int version, int Q, int D) followed
+by Q rows of D float32 scores, all little-endian. Alongside it, <file>.queries and
+<file>.docs list the name of each row and the "file" key of each column, one per line.
+
+The scores are the same as LDAQuery's (the products are summed in the same order), and
+ties are broken by docId, so the rankings agree with those of the per-query path. They
+are only longer: LDAQuery matches just the documents that hold one of the query's topics
+in their payload field, which leaves out the topics below the indexing threshold.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.log4j.Logger;
+import org.apache.lucene.index.IndexReader;
+
+class BatchScorer {
+
+	private static final Logger logger = Logger.getRootLogger();
+
+	static final byte[] MAGIC = {'L', 'D', 'A', 'S'};
+	static final int VERSION = 1;
+	static final int HEADER_BYTES = 16;
+
+	// The number of queries scored together by one task
+	private static final int QUERY_BLOCK = 32;
+
+	// The number of documents scored (for every query of a block) before their scores
+	// are ranked or written
+	private static final int DOC_CHUNK = 16384;
+
+	final int K;
+
+	// The number of (live) documents
+	private final int D;
+
+	// The topic vector of each document, row-major, and its "file" key
+	private final float[] theta;
+	private final String[] labels;
+
+	private int numThreads = 0;
+
+	/**
+	 * Packs the topic vectors of every live document of the given (top-level) reader,
+	 * for the scenario with K topics.
+	 */
+	BatchScorer(IndexReader reader, int K) throws IOException {
+		this.K = K;
+		this.D = reader.numDocs();
+		if ((long) D * K > Integer.MAX_VALUE){
+			throw new IOException("Too many documents (" + D + ") to pack their topic vectors for K=" + K);
+		}
+		this.theta = new float[D * K];
+		this.labels = new String[D];
+
+		TopicVectorColumn column = TopicVectorColumn.get(reader, K);
+		FileKeyColumn keys = FileKeyColumn.get(reader);
+		float[] row = new float[K];
+		int d = 0;
+		for (int doc = 0; doc < reader.maxDoc(); ++doc){
+			if (reader.isDeleted(doc)){
+				continue;
+			}
+			column.get(doc, row);
+			System.arraycopy(row, 0, theta, d * K, K);
+			labels[d++] = keys.get(doc);
+		}
+	}
+
+	// 0 means one per available processor
+	void setNumThreads(int numThreads) {
+		this.numThreads = numThreads;
+	}
+
+	/**
+	 * Scores every given query topic vector (of length K) against every document.
+	 *
+	 * @param names The name of each query
+	 * @param queries The topic vector of each query
+	 * @param maxHits The number of top documents to rank for each query; 0 ranks none
+	 * @param scoreMatrix If not null, the file to write the full score matrix to (its
+	 *            directory is created if need be)
+	 * @return The ranked results of each query (null if maxHits is 0)
+	 */
+	QueryResult[] score(final String[] names, final float[][] queries, final int maxHits, File scoreMatrix)
+			throws IOException {
+		long start = System.nanoTime();
+		final int Q = queries.length;
+		final QueryResult[] results = maxHits > 0 ? new QueryResult[Q] : null;
+
+		RandomAccessFile matrixFile = null;
+		final FileChannel channel;
+		if (scoreMatrix != null){
+			File dir = scoreMatrix.getAbsoluteFile().getParentFile();
+			if (dir != null && !dir.exists()){
+				dir.mkdirs();
+			}
+			matrixFile = new RandomAccessFile(scoreMatrix, "rw");
+			matrixFile.setLength(HEADER_BYTES + 4L * Q * D);
+			ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+			header.put(MAGIC);
+			header.putInt(VERSION);
+			header.putInt(Q);
+			header.putInt(D);
+			header.flip();
+			channel = matrixFile.getChannel();
+			write(channel, header, 0);
+			writeLines(new File(scoreMatrix.getPath() + ".queries"), names);
+			writeLines(new File(scoreMatrix.getPath() + ".docs"), labels);
+		} else {
+			channel = null;
+		}
+
+		int threads = numThreads > 0 ? numThreads : Runtime.getRuntime().availableProcessors();
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try {
+			List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+			for (int from = 0; from < Q; from += QUERY_BLOCK){
+				final int first = from;
+				final int last = Math.min(Q, from + QUERY_BLOCK);
+				tasks.add(new Callable<Void>() {
+					public Void call() throws IOException {
+						scoreBlock(names, queries, first, last, maxHits, channel, results);
+						return null;
+					}
+				});
+			}
+			for (Future<Void> result : pool.invokeAll(tasks)){
+				try {
+					result.get();
+				} catch (ExecutionException e) {
+					if (e.getCause() instanceof IOException){
+						throw (IOException) e.getCause();
+					}
+					throw new IOException("Error scoring queries", e.getCause());
+				}
+			}
+		} catch (InterruptedException e) {
+			throw new IOException("Interrupted while scoring queries", e);
+		} finally {
+			pool.shutdownNow();
+			if (matrixFile != null){
+				matrixFile.close();
+			}
+		}
+
+		double seconds = (System.nanoTime() - start) / 1e9;
+		logger.info(String.format("Scored %d queries against %d documents (K=%d) in %.3f s (%.1f queries/sec, %.0f Mflop/s) on %d thread(s)",
+				Q, D, K, seconds, Q / Math.max(seconds, 1e-9), 2.0 * Q * D * K / 1e6 / Math.max(seconds, 1e-9), threads));
+		return results;
+	}
+
+	// Scores the queries first .. last-1 against every document
+	private void scoreBlock(String[] names, float[][] queries, int first, int last, int maxHits,
+			FileChannel channel, QueryResult[] results) throws IOException {
+		int n = last - first;
+		float[][] scores = new float[n][Math.min(DOC_CHUNK, Math.max(1, D))];
+		TopKRanker[] rankers = new TopKRanker[maxHits > 0 ? n : 0];
+		for (int i = 0; i < rankers.length; ++i){
+			rankers[i] = new TopKRanker(Math.min(maxHits, D));
+		}
+		ByteBuffer buffer = channel == null ? null
+				: ByteBuffer.allocate(4 * scores[0].length).order(ByteOrder.LITTLE_ENDIAN);
+
+		for (int chunkStart = 0; chunkStart < D; chunkStart += DOC_CHUNK){
+			int chunkEnd = Math.min(D, chunkStart + DOC_CHUNK);
+
+			// The kernel: each document row, against every query of the block
+			for (int d = chunkStart; d < chunkEnd; ++d){
+				int base = d * K;
+				int col = d - chunkStart;
+				for (int i = 0; i < n; ++i){
+					float[] q = queries[first + i];
+					float sum = 0;
+					for (int k = 0; k < K; ++k){
+						sum += theta[base + k] * q[k];
+					}
+					scores[i][col] = sum;
+				}
+			}
+
+			for (int i = 0; i < n; ++i){
+				float[] row = scores[i];
+				if (rankers.length > 0){
+					for (int d = chunkStart; d < chunkEnd; ++d){
+						float score = row[d - chunkStart];
+						if (score > 0){
+							rankers[i].offer(d, score);
+						}
+					}
+				}
+				if (channel != null){
+					buffer.clear();
+					FloatBuffer floats = buffer.asFloatBuffer();
+					floats.put(row, 0, chunkEnd - chunkStart);
+					buffer.limit(4 * (chunkEnd - chunkStart));
+					write(channel, buffer, HEADER_BYTES + 4L * ((long) (first + i) * D + chunkStart));
+				}
+			}
+		}
+
+		for (int i = 0; i < rankers.length; ++i){
+			TopKRanker ranker = rankers[i];
+			ranker.sort();
+			String[] files = new String[ranker.size()];
+			float[] topScores = new float[ranker.size()];
+			for (int j = 0; j < files.length; ++j){
+				files[j] = labels[ranker.doc(j)];
+				topScores[j] = ranker.score(j);
+			}
+			results[first + i] = new QueryResult(names[first + i], files, topScores);
+		}
+	}
+
+	// Writes all of the buffer at the given position of the channel (which may be shared)
+	private static void write(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()){
+			position += channel.write(buffer, position);
+		}
+	}
+
+	private static void writeLines(File file, String[] lines) throws IOException {
+		PrintWriter out = new PrintWriter(new FileWriter(file));
+		try {
+			for (String line : lines){
+				out.println(line);
+			}
+		} finally {
+			out.close();
+		}
+	}
+}
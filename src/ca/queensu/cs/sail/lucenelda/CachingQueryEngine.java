@@ -0,0 +1,58 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+CachingQueryEngine.java
+
+Wraps another QueryEngine with a QueryCache of its results: a query whose normalized text
+(see QueryCache.normalize()) has been seen before by an engine with the same key is
+answered from the cache, without running it. The key of the engine should name everything
+that changes its results (model, K, scoring code, maximum hits, ...); the version of the
+index is added to it.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import org.apache.lucene.index.IndexReader;
+
+class CachingQueryEngine implements QueryEngine {
+
+	private final QueryEngine engine;
+	private final String keyPrefix;
+	private final QueryCache cache;
+
+	/**
+	 * @param engine The engine to run queries that are not in the cache
+	 * @param engineKey A description of everything that changes the engine's results
+	 * @param reader The index the engine searches
+	 * @param cache The cache, which may be shared with other engines
+	 */
+	CachingQueryEngine(QueryEngine engine, String engineKey, IndexReader reader, QueryCache cache) {
+		this.engine = engine;
+		this.keyPrefix = engineKey + " index=" + reader.getVersion() + "\t";
+		this.cache = cache;
+	}
+
+	public QueryResult execute(String name, String query) throws Exception {
+		String terms = QueryCache.normalize(query);
+		if (terms.length() == 0){
+			// A blank query
+			return engine.execute(name, query);
+		}
+
+		String key = keyPrefix + terms;
+		QueryResult result = cache.getResult(key);
+		if (result != null){
+			return new QueryResult(name, result.files, result.scores);
+		}
+		result = engine.execute(name, query);
+		if (result != null){
+			cache.putResult(key, result);
+		}
+		return result;
+	}
+}
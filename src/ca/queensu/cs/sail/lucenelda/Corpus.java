@@ -0,0 +1,168 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+Corpus.java
+
+An int-encoded corpus, as needed to train LDA: every term of every document is replaced
+by its id in the vocabulary, and all documents are concatenated into one int array
+(document d is tokens docStarts[d] .. docStarts[d+1]-1).
+
+Documents are the (readable, non-hidden) files in a directory tree, named by their file
+name (the same key that SimpleIndexer uses), in order of their paths. Terms are the
+white-space delimited tokens of each file, as in the "data" field of the index.
+
+Files are read and split on several threads, one batch at a time; ids are then assigned
+in document order, so the same directory always gives the same corpus.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.log4j.Logger;
+
+class Corpus {
+
+	private static final Logger logger = Logger.getRootLogger();
+
+	// The number of files read (by all threads) before their terms are assigned ids
+	private static final int BATCH_SIZE = 4096;
+
+	// The vocabulary: term -> id, and id -> term
+	final HashMap<String, Integer> termMap = new HashMap<String, Integer>();
+	final List<String> terms = new ArrayList<String>();
+
+	// The names of the documents
+	final List<String> docNames = new ArrayList<String>();
+
+	// The tokens of every document, concatenated
+	int[] tokens = new int[1 << 16];
+	int numTokens = 0;
+	int[] docStarts = new int[] {0};
+
+	int numDocs() {
+		return docNames.size();
+	}
+
+	int numTerms() {
+		return terms.size();
+	}
+
+	int docLength(int d) {
+		return docStarts[d + 1] - docStarts[d];
+	}
+
+	/**
+	 * Reads every file in the given directory tree.
+	 *
+	 * @param numThreads The number of threads to read with; 0 means one per available processor
+	 */
+	static Corpus read(File dir, int numThreads) throws IOException {
+		numThreads = numThreads > 0 ? numThreads : Runtime.getRuntime().availableProcessors();
+		long start = System.nanoTime();
+
+		List<File> files = new ArrayList<File>();
+		listFiles(dir, files);
+
+		Corpus corpus = new Corpus();
+		corpus.docStarts = new int[files.size() + 1];
+		ExecutorService pool = Executors.newFixedThreadPool(numThreads);
+		try {
+			for (int from = 0; from < files.size(); from += BATCH_SIZE){
+				List<Callable<String[]>> tasks = new ArrayList<Callable<String[]>>();
+				for (final File f : files.subList(from, Math.min(files.size(), from + BATCH_SIZE))){
+					tasks.add(new Callable<String[]>() {
+						public String[] call() throws IOException {
+							String data = FileUtils.readFileToString(f).trim();
+							return data.length() == 0 ? new String[0] : data.split("\\s+");
+						}
+					});
+				}
+				List<Future<String[]>> results = pool.invokeAll(tasks);
+				for (int i = 0; i < results.size(); ++i){
+					corpus.add(files.get(from + i).getName(), get(results.get(i)));
+				}
+			}
+		} catch (InterruptedException e) {
+			throw new IOException("Interrupted while reading " + dir, e);
+		} finally {
+			pool.shutdownNow();
+		}
+
+		double seconds = (System.nanoTime() - start) / 1e9;
+		logger.info(String.format("Read corpus of %d documents, %d terms, %d tokens in %.3f s",
+				corpus.numDocs(), corpus.numTerms(), corpus.numTokens, seconds));
+		return corpus;
+	}
+
+	// Adds a document, assigning ids to any new terms
+	void add(String name, String[] docTerms) {
+		int d = docNames.size();
+		if (d + 1 >= docStarts.length){
+			docStarts = Arrays.copyOf(docStarts, 2 * docStarts.length);
+		}
+		if (numTokens + docTerms.length > tokens.length){
+			tokens = Arrays.copyOf(tokens, Math.max(2 * tokens.length, numTokens + docTerms.length));
+		}
+		for (int i = 0; i < docTerms.length; ++i){
+			Integer id = termMap.get(docTerms[i]);
+			if (id == null){
+				id = terms.size();
+				termMap.put(docTerms[i], id);
+				terms.add(docTerms[i]);
+			}
+			tokens[numTokens++] = id;
+		}
+		docNames.add(name);
+		docStarts[d + 1] = numTokens;
+	}
+
+	// All the (readable, non-hidden) files in the tree, in order of their paths
+	static void listFiles(File dir, List<File> out) throws IOException {
+		File[] files = dir.listFiles();
+		if (files == null){
+			throw new IOException("Cannot list directory " + dir);
+		}
+		Arrays.sort(files, new Comparator<File>() {
+			public int compare(File a, File b) {
+				return a.getName().compareTo(b.getName());
+			}
+		});
+		for (int i = 0; i < files.length; i++) {
+			File f = files[i];
+			if (f.isDirectory()){
+				listFiles(f, out);
+			} else if (!f.isHidden() && f.canRead()){
+				out.add(f);
+			}
+		}
+	}
+
+	private static String[] get(Future<String[]> future) throws IOException, InterruptedException {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException){
+				throw (IOException) e.getCause();
+			}
+			throw new IOException("Error reading corpus", e.getCause());
+		}
+	}
+}
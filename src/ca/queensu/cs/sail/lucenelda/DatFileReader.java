@@ -0,0 +1,515 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+DatFileReader.java
+
+Reads the white-space delimited matrices (theta.dat, words.dat) and line lists
+(vocab.dat) written by LDA tools such as MALLET.
+
+The file is memory-mapped and split into line-aligned chunks, which are parsed on
+several threads at once, directly into the target arrays. Parsing works on the raw
+bytes: there is no line splitting with regular expressions, no String per value, and
+floats are converted by hand (falling back to Float.parseFloat only in the rare cases
+where the fast conversion could be inexact, so the results are always identical to
+Float.parseFloat).
+
+A matrix of topic memberships (theta) can also be read straight into sparse form (see
+SparseTheta), and a matrix of term memberships (phi) straight into quantized form (see
+QuantizedPhi), so that the full-precision dense matrix is never held in memory.
+
+Special case: MALLET writes rows of "nan"s, for example if there were more topics than
+documents. Such rows are read as rows of 0s.
+
+Malformed input (a bad number, or too many rows or columns) is reported with an
+IOException that names the file and line.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class DatFileReader {
+
+	// Files are mapped and parsed in chunks of at most this many bytes
+	private static final long MAX_CHUNK_BYTES = 64L << 20;
+
+	// Exact powers of ten, for the fast float conversion
+	private static final float[] FLOAT_POWERS = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+	private static final double[] DOUBLE_POWERS = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+		1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+	private final File file;
+	private final int numThreads;
+
+	/**
+	 * @param file The file to read
+	 * @param numThreads The number of threads to parse with; 0 means one per available processor
+	 */
+	DatFileReader(File file, int numThreads) {
+		this.file = file;
+		this.numThreads = numThreads > 0 ? numThreads : Runtime.getRuntime().availableProcessors();
+	}
+
+
+	// Where the rows of a chunk are parsed to
+	private interface RowSink {
+		// The array to parse the given line into (of length numCols, and all 0s)
+		float[] row(int line);
+
+		// Called once the given line has been parsed into its row
+		void endRow(int line, float[] row);
+	}
+
+
+	/**
+	 * Reads the file as a numRows x numCols matrix. Missing rows or columns are left as 0.
+	 */
+	float[][] readMatrix(final int numRows, final int numCols) throws IOException {
+		final float[][] matrix = new float[numRows][numCols];
+		final RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			final List<long[]> chunks = findChunks(raf);
+			final int[] firstLines = countLines(raf, chunks);
+
+			List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+			for (int i = 0; i < chunks.size(); ++i){
+				final long[] chunk = chunks.get(i);
+				final int firstLine = firstLines[i];
+				tasks.add(new Callable<Void>() {
+					public Void call() throws IOException {
+						parseChunk(map(raf, chunk), firstLine, new RowSink() {
+							public float[] row(int line) {
+								return matrix[line];
+							}
+							public void endRow(int line, float[] row) {
+							}
+						}, numRows, numCols);
+						return null;
+					}
+				});
+			}
+			runAll(tasks);
+		} finally {
+			raf.close();
+		}
+		return matrix;
+	}
+
+
+	/**
+	 * Reads the file as a numRows x numCols matrix of topic memberships, keeping only the
+	 * weights greater than threshold (see SparseTheta). Each chunk is parsed one row at a
+	 * time into its own builder, so the dense matrix is never allocated.
+	 */
+	SparseTheta readSparseTheta(final int numRows, final int numCols, final float threshold) throws IOException {
+		final List<SparseTheta.Builder> parts = new ArrayList<SparseTheta.Builder>();
+		final RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			final List<long[]> chunks = findChunks(raf);
+			final int[] firstLines = countLines(raf, chunks);
+
+			List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+			for (int i = 0; i < chunks.size(); ++i){
+				final long[] chunk = chunks.get(i);
+				final SparseTheta.Builder builder = new SparseTheta.Builder(firstLines[i], numCols, threshold);
+				parts.add(builder);
+				tasks.add(new Callable<Void>() {
+					public Void call() throws IOException {
+						final float[] scratch = new float[numCols];
+						parseChunk(map(raf, chunk), builder.firstRow, new RowSink() {
+							public float[] row(int line) {
+								Arrays.fill(scratch, 0f);
+								return scratch;
+							}
+							public void endRow(int line, float[] row) {
+								builder.addRow(row);
+							}
+						}, numRows, numCols);
+						return null;
+					}
+				});
+			}
+			runAll(tasks);
+		} finally {
+			raf.close();
+		}
+		return SparseTheta.Builder.build(parts, numRows, numCols, threshold);
+	}
+
+
+	/**
+	 * Reads the file as a numRows x numCols matrix of term memberships, quantized with the
+	 * given encoding (see QuantizedPhi). Each row is quantized as soon as it is parsed.
+	 */
+	QuantizedPhi readQuantizedPhi(final int numRows, final int numCols, QuantizedPhi.Encoding encoding) throws IOException {
+		final QuantizedPhi phi = QuantizedPhi.allocate(encoding, numRows, numCols);
+		final RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			final List<long[]> chunks = findChunks(raf);
+			final int[] firstLines = countLines(raf, chunks);
+
+			List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+			for (int i = 0; i < chunks.size(); ++i){
+				final long[] chunk = chunks.get(i);
+				final int firstLine = firstLines[i];
+				tasks.add(new Callable<Void>() {
+					public Void call() throws IOException {
+						final float[] scratch = new float[numCols];
+						parseChunk(map(raf, chunk), firstLine, new RowSink() {
+							public float[] row(int line) {
+								Arrays.fill(scratch, 0f);
+								return scratch;
+							}
+							public void endRow(int line, float[] row) {
+								phi.setRow(line, row);
+							}
+						}, numRows, numCols);
+						return null;
+					}
+				});
+			}
+			runAll(tasks);
+		} finally {
+			raf.close();
+		}
+		phi.logSummary();
+		return phi;
+	}
+
+
+	/**
+	 * Reads every line of the file (without its line terminator).
+	 */
+	String[] readLines(final Charset charset) throws IOException {
+		final RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			final List<long[]> chunks = findChunks(raf);
+			final int[] firstLines = countLines(raf, chunks);
+			final String[] lines = new String[firstLines[chunks.size()]];
+
+			List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+			for (int i = 0; i < chunks.size(); ++i){
+				final long[] chunk = chunks.get(i);
+				final int firstLine = firstLines[i];
+				tasks.add(new Callable<Void>() {
+					public Void call() throws IOException {
+						MappedByteBuffer buf = map(raf, chunk);
+						int line = firstLine;
+						int start = 0;
+						int end = buf.limit();
+						byte[] bytes = new byte[0];
+						while (start < end){
+							int stop = start;
+							while (stop < end && buf.get(stop) != '\n'){
+								++stop;
+							}
+							// Drop the '\r' of a "\r\n" terminator
+							int len = (stop > start && buf.get(stop - 1) == '\r') ? stop - start - 1 : stop - start;
+							if (bytes.length < len){
+								bytes = new byte[len];
+							}
+							for (int j = 0; j < len; ++j){
+								bytes[j] = buf.get(start + j);
+							}
+							lines[line++] = new String(bytes, 0, len, charset);
+							start = stop + 1;
+						}
+						return null;
+					}
+				});
+			}
+			runAll(tasks);
+			return lines;
+		} finally {
+			raf.close();
+		}
+	}
+
+
+	// Splits the file into chunks of [start, end) byte offsets, each ending just after a
+	// newline (or at the end of the file)
+	private List<long[]> findChunks(RandomAccessFile raf) throws IOException {
+		long length = raf.length();
+		long target = Math.max(1, Math.min(MAX_CHUNK_BYTES, length / (numThreads * 4L) + 1));
+
+		List<long[]> chunks = new ArrayList<long[]>();
+		long start = 0;
+		while (start < length){
+			// Move the end forward, to just past the next newline
+			long end = findNewline(raf, Math.min(length, start + target) - 1, length);
+			chunks.add(new long[] {start, end});
+			start = end;
+		}
+		return chunks;
+	}
+
+
+	// Returns the offset just past the first newline at or after pos (or the length of the file)
+	private static long findNewline(RandomAccessFile raf, long pos, long length) throws IOException {
+		byte[] block = new byte[1 << 16];
+		while (pos < length){
+			raf.seek(pos);
+			int n = raf.read(block, 0, (int) Math.min(block.length, length - pos));
+			for (int i = 0; i < n; ++i){
+				if (block[i] == '\n'){
+					return pos + i + 1;
+				}
+			}
+			pos += n;
+		}
+		return length;
+	}
+
+
+	// Counts the lines in each chunk (in parallel), and returns the number of the first
+	// line of each chunk; the last element is the total number of lines
+	private int[] countLines(final RandomAccessFile raf, List<long[]> chunks) throws IOException {
+		final int[] counts = new int[chunks.size() + 1];
+		List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+		for (int i = 0; i < chunks.size(); ++i){
+			final long[] chunk = chunks.get(i);
+			final int idx = i + 1;
+			tasks.add(new Callable<Void>() {
+				public Void call() throws IOException {
+					MappedByteBuffer buf = map(raf, chunk);
+					int n = 0;
+					int end = buf.limit();
+					for (int j = 0; j < end; ++j){
+						if (buf.get(j) == '\n'){
+							++n;
+						}
+					}
+					// A last line without a newline
+					if (end > 0 && buf.get(end - 1) != '\n'){
+						++n;
+					}
+					counts[idx] = n;
+					return null;
+				}
+			});
+		}
+		runAll(tasks);
+		for (int i = 1; i < counts.length; ++i){
+			counts[i] += counts[i - 1];
+		}
+		return counts;
+	}
+
+
+	private static MappedByteBuffer map(RandomAccessFile raf, long[] chunk) throws IOException {
+		return raf.getChannel().map(FileChannel.MapMode.READ_ONLY, chunk[0], chunk[1] - chunk[0]);
+	}
+
+
+	private void runAll(List<Callable<Void>> tasks) throws IOException {
+		ExecutorService pool = Executors.newFixedThreadPool(Math.min(numThreads, Math.max(tasks.size(), 1)));
+		try {
+			List<Future<Void>> futures = pool.invokeAll(tasks);
+			for (Future<Void> f : futures){
+				f.get();
+			}
+		} catch (InterruptedException e) {
+			throw new IOException("Interrupted while reading " + file, e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException){
+				throw (IOException) e.getCause();
+			}
+			throw new IOException("Error reading " + file, e.getCause());
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+
+	// Parses the lines of one chunk into rows firstLine, firstLine+1, ... of the sink
+	private void parseChunk(MappedByteBuffer buf, int firstLine, RowSink sink,
+			int numRows, int numCols) throws IOException {
+		int pos = 0;
+		int end = buf.limit();
+		int line = firstLine;
+		while (pos < end){
+			if (line >= numRows){
+				throw error(line, "more than the expected " + numRows + " rows");
+			}
+			float[] row = sink.row(line);
+			int col = 0;
+			boolean nanRow = false;
+
+			while (pos < end && buf.get(pos) != '\n'){
+				byte b = buf.get(pos);
+				if (isSpace(b)){
+					++pos;
+					continue;
+				}
+
+				// Find the end of this token
+				int tokenEnd = pos;
+				while (tokenEnd < end && !isSpace(buf.get(tokenEnd)) && buf.get(tokenEnd) != '\n'){
+					++tokenEnd;
+				}
+
+				// A row that starts with "nan" is a row of 0s
+				if (col == 0 && isNan(buf, pos, tokenEnd)){
+					while (tokenEnd < end && buf.get(tokenEnd) != '\n'){
+						++tokenEnd;
+					}
+					pos = tokenEnd;
+					nanRow = true;
+					break;
+				}
+
+				if (col >= numCols){
+					throw error(line, "more than the expected " + numCols + " columns");
+				}
+				row[col++] = parseFloat(buf, pos, tokenEnd, line);
+				pos = tokenEnd;
+			}
+			if (col == 0 && !nanRow){
+				throw error(line, "empty line");
+			}
+			sink.endRow(line, row);
+			++pos; // the newline
+			++line;
+		}
+	}
+
+
+	private static boolean isSpace(byte b) {
+		return b == ' ' || b == '\t' || b == '\r' || b == '\f' || b == 0x0b;
+	}
+
+
+	private static boolean isNan(MappedByteBuffer buf, int start, int end) {
+		return end - start == 3
+			&& (buf.get(start) | 0x20) == 'n'
+			&& (buf.get(start + 1) | 0x20) == 'a'
+			&& (buf.get(start + 2) | 0x20) == 'n';
+	}
+
+
+	/**
+	 * Parses a decimal float, such as "0.0123", "-4", or "1.5e-05". The result is always
+	 * the same as Float.parseFloat() of the same text.
+	 */
+	private float parseFloat(MappedByteBuffer buf, int start, int end, int line) throws IOException {
+		int pos = start;
+		boolean negative = false;
+		byte b = buf.get(pos);
+		if (b == '-' || b == '+'){
+			negative = (b == '-');
+			++pos;
+		}
+
+		// The significant digits, as an integer, and the power of ten to scale them by
+		long mantissa = 0;
+		int numDigits = 0;
+		int exponent = 0;
+		boolean sawDigit = false;
+		boolean sawPoint = false;
+		for (; pos < end; ++pos){
+			b = buf.get(pos);
+			if (b >= '0' && b <= '9'){
+				sawDigit = true;
+				if (mantissa == 0 && b == '0'){
+					// Leading zeros are not significant
+				} else if (numDigits < 18){
+					mantissa = mantissa * 10 + (b - '0');
+					++numDigits;
+				} else {
+					return slowParseFloat(buf, start, end, line);
+				}
+				if (sawPoint){
+					--exponent;
+				}
+			} else if (b == '.' && !sawPoint){
+				sawPoint = true;
+			} else {
+				break;
+			}
+		}
+		if (!sawDigit){
+			return slowParseFloat(buf, start, end, line);
+		}
+
+		if (pos < end && (buf.get(pos) == 'e' || buf.get(pos) == 'E')){
+			++pos;
+			boolean negativeExp = false;
+			if (pos < end && (buf.get(pos) == '-' || buf.get(pos) == '+')){
+				negativeExp = (buf.get(pos) == '-');
+				++pos;
+			}
+			int exp = 0;
+			int expStart = pos;
+			for (; pos < end && buf.get(pos) >= '0' && buf.get(pos) <= '9' && exp < 1000; ++pos){
+				exp = exp * 10 + (buf.get(pos) - '0');
+			}
+			if (pos == expStart){
+				return slowParseFloat(buf, start, end, line);
+			}
+			exponent += negativeExp ? -exp : exp;
+		}
+		if (pos != end){
+			// Trailing garbage (or something else, like "Infinity"): let Java decide
+			return slowParseFloat(buf, start, end, line);
+		}
+
+		float result;
+		if (mantissa == 0){
+			result = 0f;
+		} else if (mantissa < (1L << 24) && exponent >= -10 && exponent <= 10){
+			// Both the mantissa and the power of ten are exact floats, so one float
+			// operation gives the correctly rounded result
+			result = exponent < 0 ? mantissa / FLOAT_POWERS[-exponent] : mantissa * FLOAT_POWERS[exponent];
+		} else if (mantissa < (1L << 53) && exponent >= -22 && exponent <= 22){
+			// The same, in double precision; rounding that to a float is only inexact if it
+			// lands exactly halfway between two floats (or outside the normal float range)
+			double d = exponent < 0 ? mantissa / DOUBLE_POWERS[-exponent] : mantissa * DOUBLE_POWERS[exponent];
+			long bits = Double.doubleToRawLongBits(d);
+			if ((bits & ((1L << 29) - 1)) == (1L << 28) || d < Float.MIN_NORMAL || d > Float.MAX_VALUE){
+				return slowParseFloat(buf, start, end, line);
+			}
+			result = (float) d;
+		} else {
+			return slowParseFloat(buf, start, end, line);
+		}
+		return negative ? -result : result;
+	}
+
+
+	private float slowParseFloat(MappedByteBuffer buf, int start, int end, int line) throws IOException {
+		byte[] bytes = new byte[end - start];
+		for (int i = 0; i < bytes.length; ++i){
+			bytes[i] = buf.get(start + i);
+		}
+		String token = new String(bytes, Charset.forName("US-ASCII"));
+		try {
+			return Float.parseFloat(token);
+		} catch (NumberFormatException e) {
+			throw error(line, "\"" + token + "\" is not a number");
+		}
+	}
+
+
+	private IOException error(int line, String message) {
+		// Lines are reported counting from 1
+		return new IOException(file + ":" + (line + 1) + ": " + message);
+	}
+}
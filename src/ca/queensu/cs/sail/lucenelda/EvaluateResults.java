@@ -0,0 +1,453 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+EvaluateResults.java
+
+(Invoked from command line, or via main() method.)
+
+Measures how well one or more sets of results (as written by the query tools, in any
+of the formats of RunWriter) localize the bugs of a gold set, i.e., a mapping from each
+query to the files that are relevant to it. For each set of results, the report gives:
+
+* answered: the number of queries of the gold set that have results (a query without
+  results counts as a miss in every metric)
+* MAP: the mean, over the queries, of the average precision of their rankings
+* MRR: the mean, over the queries, of the reciprocal rank of their first relevant file
+* top@N: the share of queries with at least one relevant file in their top N
+* overlap@N: the share of the first set's top N documents (for the largest N) that are
+  also in this set's top N, averaged over the queries (see PhiDriftReport.compare()),
+  i.e., how much the rankings changed
+* the 50th, 90th and 99th percentiles of the time per query, if the run's timings were
+  written with --metrics (see Metrics) and are given with --latency
+
+The sets are read and evaluated concurrently. With --tolerance, the first set is the
+baseline: if any other set's MAP, MRR or top@N is lower than the baseline's by more
+than the tolerance, the regressions are reported, and the program exits with status 1
+(so that, e.g., a faster engine is only accepted if it ranks as well).
+
+The gold set has one line per query, "<query> <file> [<file> ...]", separated by
+whitespace or commas (a query may also be spread over several lines), or, with
+--goldFormat qrels, is in TREC qrels format ("<query> 0 <file> <relevance>", where only a
+relevance above 0 counts). The file keys are those of the index (see --fileCodes of the
+indexing tools).
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.log4j.BasicConfigurator;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+
+import com.martiansoftware.jsap.FlaggedOption;
+import com.martiansoftware.jsap.JSAP;
+import com.martiansoftware.jsap.JSAPResult;
+import com.martiansoftware.jsap.Switch;
+import com.martiansoftware.jsap.UnflaggedOption;
+
+public class EvaluateResults {
+
+	private static final Logger logger = Logger.getRootLogger();
+
+	// The phase whose latencies are reported (see Metrics)
+	private static final String LATENCY_PHASE = "query.execute";
+	private static final String[] LATENCY_PERCENTILES = {"p50Ms", "p90Ms", "p99Ms"};
+
+	// The evaluation of one set of results
+	static class Evaluation {
+		int answered;
+		double map;
+		double mrr;
+		double[] topN;
+		double overlap;
+		// In ms, or null if unknown
+		double[] latency;
+		Map<String, QueryResult> results;
+	}
+
+	public static void main(String[] args) throws Exception {
+		int status = run(args);
+		if (status != 0){
+			System.exit(status);
+		}
+	}
+
+	// Runs the program, and returns its exit status: 0, or 1 if any set of results
+	// regressed beyond the tolerance
+	static int run(String[] args) throws Exception {
+
+		// Set up the Apache log4j logger, only if we need to (another class or test case or ant
+		// may have already set up the logger.)
+		if (!logger.getAllAppenders().hasMoreElements()) {
+			BasicConfigurator.configure();
+			logger.setLevel(Level.INFO);
+		}
+
+		JSAP jsap = new JSAP();
+
+		UnflaggedOption opt0 = new UnflaggedOption("goldSet").setStringParser(
+				JSAP.STRING_PARSER).setRequired(true);
+		opt0.setHelp("The file that lists the relevant files of each query.");
+
+		UnflaggedOption opt1 = new UnflaggedOption("results").setStringParser(
+				JSAP.STRING_PARSER).setRequired(true).setGreedy(true);
+		opt1.setHelp("The sets of results to evaluate: results directories (one file per query), or TREC or binary "
+				+ "run files. The first is the baseline of overlap@N and --tolerance.");
+
+		FlaggedOption opt2 = new FlaggedOption("goldFormat")
+				.setStringParser(JSAP.STRING_PARSER).setRequired(false)
+				.setLongFlag("goldFormat").setDefault("lines");
+		opt2.setHelp("The format of the gold set: lines (\"<query> <file> [<file> ...]\" on each line) or qrels "
+				+ "(\"<query> 0 <file> <relevance>\"). Default: lines.");
+
+		FlaggedOption opt3 = new FlaggedOption("topN")
+				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+				.setList(true).setListSeparator(',')
+				.setLongFlag("topN").setDefault("1,5,10");
+		opt3.setHelp("The Ns of the top@N accuracies; the largest is also the N of overlap@N. Default: 1,5,10.");
+
+		FlaggedOption opt4 = new FlaggedOption("latency")
+				.setStringParser(JSAP.STRING_PARSER).setRequired(false)
+				.setList(true).setListSeparator(',')
+				.setLongFlag("latency");
+		opt4.setHelp("The metrics file (see --metrics of the query tools) of the run of each set of results, in the "
+				+ "same order, for the percentiles of the time per query.");
+
+		FlaggedOption opt5 = new FlaggedOption("tolerance")
+				.setStringParser(JSAP.DOUBLE_PARSER).setRequired(false)
+				.setLongFlag("tolerance");
+		opt5.setHelp("If given, exit with status 1 if the MAP, MRR or any top@N of any set of results is lower than "
+				+ "that of the first set by more than this.");
+
+		FlaggedOption opt6 = new FlaggedOption("threads")
+				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+				.setLongFlag("threads").setDefault("0");
+		opt6.setHelp("The number of sets of results to evaluate concurrently. Default: one per available processor.");
+
+		Switch sw0 = new Switch("help").setDefault("false").setLongFlag("help");
+		sw0.setHelp("Prints this message.");
+
+		jsap.registerParameter(sw0);
+		jsap.registerParameter(opt0);
+		jsap.registerParameter(opt1);
+		jsap.registerParameter(opt2);
+		jsap.registerParameter(opt3);
+		jsap.registerParameter(opt4);
+		jsap.registerParameter(opt5);
+		jsap.registerParameter(opt6);
+
+		// check whether the command line was valid, and if it wasn't,
+		// display usage information and exit.
+		JSAPResult config = jsap.parse(args);
+		if (!config.success()) {
+			for (java.util.Iterator<?> errs = config.getErrorMessageIterator(); errs
+					.hasNext();) {
+				logger.error("Error: " + errs.next());
+			}
+			displayHelp(config, jsap);
+			return 0;
+		}
+
+		if (config.getBoolean("help")) {
+			displayHelp(config, jsap);
+			return 0;
+		}
+
+		String goldFormat = config.getString("goldFormat");
+		if (!goldFormat.equalsIgnoreCase("lines") && !goldFormat.equalsIgnoreCase("qrels")){
+			logger.error("Error: Unknown gold set format: " + goldFormat + " (expected lines or qrels)");
+			return 0;
+		}
+		final String[] results = config.getStringArray("results");
+		final String[] latency = config.contains("latency") ? config.getStringArray("latency") : null;
+		if (latency != null && latency.length != results.length){
+			logger.error("Error: --latency needs one metrics file per set of results");
+			return 0;
+		}
+		final int[] topN = config.getIntArray("topN");
+		int depth = 0;
+		for (int n : topN){
+			depth = Math.max(depth, n);
+		}
+
+		final Map<String, Set<String>> gold = readGoldSet(new File(config.getString("goldSet")),
+				goldFormat.equalsIgnoreCase("qrels"));
+		if (gold.isEmpty()){
+			logger.error("Error: the gold set has no queries");
+			return 0;
+		}
+
+		// Read and evaluate every set of results concurrently
+		int numThreads = config.getInt("threads") > 0 ? config.getInt("threads") : Runtime.getRuntime().availableProcessors();
+		ExecutorService pool = Executors.newFixedThreadPool(Math.min(numThreads, results.length));
+		Evaluation[] evaluations = new Evaluation[results.length];
+		try {
+			List<Future<Evaluation>> futures = new ArrayList<Future<Evaluation>>();
+			for (int i = 0; i < results.length; ++i){
+				final int r = i;
+				futures.add(pool.submit(new Callable<Evaluation>() {
+					public Evaluation call() throws Exception {
+						Evaluation e = evaluate(gold, RunReader.read(new File(results[r])), topN);
+						if (latency != null){
+							e.latency = readLatency(new File(latency[r]));
+						}
+						return e;
+					}
+				}));
+			}
+			for (int i = 0; i < results.length; ++i){
+				try {
+					evaluations[i] = futures.get(i).get();
+				} catch (ExecutionException e) {
+					if (e.getCause() instanceof Exception){
+						throw (Exception) e.getCause();
+					}
+					throw e;
+				}
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+
+		// (Only the queries of the gold set are compared)
+		Map<String, QueryResult> baseline = new HashMap<String, QueryResult>(evaluations[0].results);
+		baseline.keySet().retainAll(gold.keySet());
+		for (Evaluation e : evaluations){
+			e.overlap = PhiDriftReport.compare(baseline, e.results, depth)[0];
+		}
+
+		// The report
+		int width = 7;
+		for (String r : results){
+			width = Math.max(width, r.length());
+		}
+		StringBuilder report = new StringBuilder();
+		report.append(String.format("Retrieval effectiveness over %d queries of %s%n", gold.size(), config.getString("goldSet")));
+		report.append(String.format("%-" + width + "s %8s %7s %7s", "results", "answered", "MAP", "MRR"));
+		for (int n : topN){
+			report.append(String.format(" %7s", "top@" + n));
+		}
+		report.append(String.format(" %11s %8s %8s %8s%n", "overlap@" + depth, "p50 ms", "p90 ms", "p99 ms"));
+		for (int i = 0; i < results.length; ++i){
+			Evaluation e = evaluations[i];
+			report.append(String.format("%-" + width + "s %8d %7.4f %7.4f", results[i], e.answered, e.map, e.mrr));
+			for (double accuracy : e.topN){
+				report.append(String.format(" %7.4f", accuracy));
+			}
+			report.append(String.format(" %11.4f", e.overlap));
+			for (int p = 0; p < LATENCY_PERCENTILES.length; ++p){
+				report.append(e.latency == null ? String.format(" %8s", "-") : String.format(" %8.3f", e.latency[p]));
+			}
+			report.append(String.format("%n"));
+		}
+
+		// Compare against the baseline
+		int status = 0;
+		if (config.contains("tolerance")){
+			double tolerance = config.getDouble("tolerance");
+			Evaluation base = evaluations[0];
+			for (int i = 1; i < results.length; ++i){
+				Evaluation e = evaluations[i];
+				List<String> regressions = new ArrayList<String>();
+				checkRegression("MAP", base.map, e.map, tolerance, regressions);
+				checkRegression("MRR", base.mrr, e.mrr, tolerance, regressions);
+				for (int n = 0; n < topN.length; ++n){
+					checkRegression("top@" + topN[n], base.topN[n], e.topN[n], tolerance, regressions);
+				}
+				if (!regressions.isEmpty()){
+					report.append(String.format("REGRESSION in %s (tolerance %.4f): %s%n", results[i], tolerance, regressions));
+					status = 1;
+				}
+			}
+			if (status == 0){
+				report.append(String.format("No regressions beyond %.4f of %s%n", tolerance, results[0]));
+			}
+		}
+		System.out.print(report);
+		return status;
+	}
+
+	private static void checkRegression(String metric, double base, double value, double tolerance, List<String> regressions) {
+		if (base - value > tolerance){
+			regressions.add(String.format("%s %.4f -> %.4f", metric, base, value));
+		}
+	}
+
+	/**
+	 * Evaluates the given results against the gold set: the metrics are averaged over
+	 * every query of the gold set.
+	 */
+	static Evaluation evaluate(Map<String, Set<String>> gold, Map<String, QueryResult> results, int[] topN) {
+		Evaluation e = new Evaluation();
+		e.results = results;
+		e.topN = new double[topN.length];
+		for (Map.Entry<String, Set<String>> query : gold.entrySet()){
+			QueryResult result = results.get(query.getKey());
+			if (result == null){
+				continue;
+			}
+			++e.answered;
+			Set<String> relevant = query.getValue();
+
+			// (A file that is listed more than once only counts the first time)
+			Set<String> seen = new HashSet<String>();
+			int found = 0;
+			int first = -1;
+			double precisions = 0;
+			for (int i = 0; i < result.size(); ++i){
+				String file = result.files[i];
+				if (relevant.contains(file) && seen.add(file)){
+					++found;
+					precisions += found / (double) (i + 1);
+					if (first < 0){
+						first = i;
+					}
+				}
+			}
+			e.map += precisions / relevant.size();
+			if (first >= 0){
+				e.mrr += 1.0 / (first + 1);
+				for (int n = 0; n < topN.length; ++n){
+					if (first < topN[n]){
+						e.topN[n] += 1;
+					}
+				}
+			}
+		}
+		e.map /= gold.size();
+		e.mrr /= gold.size();
+		for (int n = 0; n < topN.length; ++n){
+			e.topN[n] /= gold.size();
+		}
+		return e;
+	}
+
+	/**
+	 * Reads the relevant files of each query of the given gold set (in lines or qrels
+	 * format). Queries without relevant files are left out.
+	 */
+	static Map<String, Set<String>> readGoldSet(File goldSet, boolean qrels) throws IOException {
+		Map<String, Set<String>> gold = new LinkedHashMap<String, Set<String>>();
+		BufferedReader in = new BufferedReader(new FileReader(goldSet));
+		try {
+			String line;
+			int lineNumber = 0;
+			while ((line = in.readLine()) != null){
+				++lineNumber;
+				line = line.trim();
+				if (line.length() == 0 || line.startsWith("#")){
+					continue;
+				}
+				String[] fields = line.split(qrels ? "\\s+" : "[\\s,]+");
+				if (qrels){
+					if (fields.length != 4){
+						throw new IOException(goldSet + ", line " + lineNumber + ": expected <query> 0 <file> <relevance>");
+					}
+					int relevance;
+					try {
+						relevance = Integer.parseInt(fields[3]);
+					} catch (NumberFormatException e) {
+						throw new IOException(goldSet + ", line " + lineNumber + ": bad relevance \"" + fields[3] + "\"");
+					}
+					if (relevance > 0){
+						relevant(gold, fields[0]).add(fields[2]);
+					}
+				} else {
+					for (int i = 1; i < fields.length; ++i){
+						relevant(gold, fields[0]).add(fields[i]);
+					}
+				}
+			}
+		} finally {
+			in.close();
+		}
+		return gold;
+	}
+
+	private static Set<String> relevant(Map<String, Set<String>> gold, String query) {
+		Set<String> relevant = gold.get(query);
+		if (relevant == null){
+			relevant = new HashSet<String>();
+			gold.put(query, relevant);
+		}
+		return relevant;
+	}
+
+	/**
+	 * Reads the percentiles of the time per query from the given metrics file (as JSON or
+	 * CSV; see Metrics.writeTo()).
+	 */
+	static double[] readLatency(File metrics) throws IOException {
+		boolean csv = metrics.getName().toLowerCase().endsWith(".csv");
+		BufferedReader in = new BufferedReader(new FileReader(metrics));
+		try {
+			String header = null;
+			String line;
+			while ((line = in.readLine()) != null){
+				if (csv && header == null){
+					header = line;
+					continue;
+				}
+				if (csv && line.startsWith(LATENCY_PHASE + ",")){
+					List<String> columns = new ArrayList<String>();
+					for (String column : header.split(",")){
+						columns.add(column);
+					}
+					String[] values = line.split(",");
+					double[] latency = new double[LATENCY_PERCENTILES.length];
+					for (int p = 0; p < latency.length; ++p){
+						latency[p] = Double.parseDouble(values[columns.indexOf(LATENCY_PERCENTILES[p])]);
+					}
+					return latency;
+				}
+				if (!csv && line.trim().startsWith("\"" + LATENCY_PHASE + "\"")){
+					double[] latency = new double[LATENCY_PERCENTILES.length];
+					for (int p = 0; p < latency.length; ++p){
+						Matcher m = Pattern.compile("\"" + LATENCY_PERCENTILES[p] + "\": ([0-9.]+)").matcher(line);
+						if (!m.find()){
+							throw new IOException(metrics + ": no " + LATENCY_PERCENTILES[p] + " for " + LATENCY_PHASE);
+						}
+						latency[p] = Double.parseDouble(m.group(1));
+					}
+					return latency;
+				}
+			}
+		} finally {
+			in.close();
+		}
+		throw new IOException(metrics + ": no timings for " + LATENCY_PHASE);
+	}
+
+	/* Use JSAP to display command-line usage information */
+	private static void displayHelp(JSAPResult config, JSAP jsap) {
+		System.err.println();
+		System.err.println("Usage: java " + EvaluateResults.class.getName());
+		System.err.println("                " + jsap.getUsage());
+		System.err.println();
+		System.err.println(jsap.getHelp());
+		System.err.println();
+	}
+}
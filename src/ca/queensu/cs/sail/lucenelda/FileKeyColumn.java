@@ -0,0 +1,103 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+FileKeyColumn.java
+
+The "file" key of every document in an index (the code of its file; see
+SimpleIndexer.fileCodes), addressed by Lucene docId, so that the results of a query can
+be written without loading any stored field.
+
+The key is indexed as a single untokenized term, so each segment's keys are read from
+its terms by Lucene's FieldCache, once, the first time they are needed, and cached for
+as long as the segment is open (the stored fields, whose "data" field holds the whole
+source file, are not touched). A column for a composite (top-level) reader delegates
+to the columns of its segments, as in TopicVectorColumn, so that reopening an index
+only loads the keys of its new segments.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.FieldCache;
+import org.apache.lucene.util.ReaderUtil;
+
+class FileKeyColumn {
+
+	static final String FIELD = "file";
+
+	// Composite columns are cached per reader (segments are cached by the FieldCache)
+	private static final Map<Object, FileKeyColumn> cache = new WeakHashMap<Object, FileKeyColumn>();
+
+	// For a segment: the key of each document (null if it has none)
+	private final String[] keys;
+
+	// For a composite reader: the columns of the segments, and their first docIds
+	private final FileKeyColumn[] subs;
+	private final int[] starts;
+
+	private FileKeyColumn(String[] keys) {
+		this.keys = keys;
+		this.subs = null;
+		this.starts = null;
+	}
+
+	private FileKeyColumn(FileKeyColumn[] subs, int[] starts) {
+		this.keys = null;
+		this.subs = subs;
+		this.starts = starts;
+	}
+
+	/**
+	 * Returns the column of keys for the given reader, loading the keys of its segments
+	 * if necessary.
+	 */
+	static FileKeyColumn get(IndexReader reader) throws IOException {
+		if (reader.getSequentialSubReaders() == null){
+			return new FileKeyColumn(FieldCache.DEFAULT.getStrings(reader, FIELD));
+		}
+
+		// The lock is held while a column is built, so that concurrent queries wait for
+		// one build rather than all loading the same keys.
+		synchronized (cache){
+			Object key = reader.getCoreCacheKey();
+			FileKeyColumn column = cache.get(key);
+			if (column == null){
+				List<IndexReader> segments = new ArrayList<IndexReader>();
+				ReaderUtil.gatherSubReaders(segments, reader);
+				FileKeyColumn[] subs = new FileKeyColumn[segments.size()];
+				int[] starts = new int[segments.size()];
+				int start = 0;
+				for (int i = 0; i < subs.length; ++i){
+					subs[i] = get(segments.get(i));
+					starts[i] = start;
+					start += segments.get(i).maxDoc();
+				}
+				column = new FileKeyColumn(subs, starts);
+				cache.put(key, column);
+			}
+			return column;
+		}
+	}
+
+	/**
+	 * Returns the key of the given document.
+	 */
+	String get(int docId) {
+		if (subs != null){
+			int i = ReaderUtil.subIndex(docId, starts);
+			return subs[i].keys[docId - starts[i]];
+		}
+		return keys[docId];
+	}
+}
@@ -0,0 +1,28 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+FloatMatrix.java
+
+A read-only, row-major matrix of floats. The theta and phi matrices of an LDA scenario
+are exposed through this interface whenever they are not plain float[][] arrays on the
+heap (for example, when they are read in place from a memory-mapped model file).
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+interface FloatMatrix {
+
+	// The number of rows in the matrix
+	int rows();
+
+	// The number of columns in the matrix
+	int cols();
+
+	// Returns the value at the given row and column
+	float get(int row, int col);
+}
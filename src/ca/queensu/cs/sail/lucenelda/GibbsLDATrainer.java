@@ -0,0 +1,479 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+GibbsLDATrainer.java
+
+Trains an LDA model in-process, with a collapsed Gibbs sampler, on an int-encoded Corpus.
+
+The sampler is SparseLDA (Yao, Mimno and McCallum, KDD 2009). The probability of
+topic k for a token of word w in document d,
+
+    (alpha + n_dk) * (beta + n_wk) / (W*beta + n_k),
+
+is split into three buckets: a "smoothing" bucket s (alpha*beta / (W*beta + n_k)),
+summed over all topics but cached and updated in O(1); a "document" bucket r, over only
+the topics in d; and a "word" bucket q, over only the topics in which w has a nonzero
+count. Most of the mass falls in q, and most samples never visit all K topics.
+
+Sampling is parallelized across threads in the style of AD-LDA (Newman et al., JMLR
+2009): the documents are split into one contiguous range per thread, balanced by token
+count. During a sweep, each thread samples its documents against a snapshot of the
+word-topic counts, taken at the start of the sweep (held word-major, with only the
+nonzero counts, as the word buckets need them), plus its own changes to the topic totals.
+Each thread records its changes as deltas, which are merged into the global counts at
+the end of the sweep. With the same seed and number of threads, training is
+deterministic.
+
+The speed, in tokens per second, is logged as training proceeds.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.log4j.Logger;
+
+class GibbsLDATrainer {
+
+	private static final Logger logger = Logger.getRootLogger();
+
+	// Log the speed every so many iterations
+	private static final int LOG_INTERVAL = 10;
+
+	// Recompute the cached smoothing bucket every so many documents, to keep
+	// floating-point drift in check
+	private static final int REFRESH_INTERVAL = 256;
+
+	private final int K;
+	private int numIterations = 1000;
+	private double alpha = 0.1;
+	private double beta = 0.01;
+	private long seed = 1;
+	private int numThreads = 0;
+
+	// The training state
+	private Corpus corpus;
+	private int W;
+	private int[] z;        // the topic of each token
+	private int[] nwk;      // word-topic counts, W x K, word-major
+	private int[] nk;       // topic totals
+
+	// The snapshot of nwk for the current sweep: for word w, the nonzero counts are
+	// entries wordStarts[w] .. wordStarts[w+1]-1
+	private int[] wordStarts;
+	private int[] wordTopics;
+	private int[] wordCounts;
+
+	/**
+	 * @param K The number of topics
+	 */
+	GibbsLDATrainer(int K) {
+		if (K <= 0){
+			throw new IllegalArgumentException("K must be positive: " + K);
+		}
+		this.K = K;
+	}
+
+	// The number of sweeps over the corpus
+	void setIterations(int numIterations) {
+		this.numIterations = numIterations;
+	}
+
+	// The (symmetric) Dirichlet prior on the topics of each document
+	void setAlpha(double alpha) {
+		this.alpha = alpha;
+	}
+
+	// The (symmetric) Dirichlet prior on the words of each topic
+	void setBeta(double beta) {
+		this.beta = beta;
+	}
+
+	void setSeed(long seed) {
+		this.seed = seed;
+	}
+
+	// 0 means one per available processor
+	void setNumThreads(int numThreads) {
+		this.numThreads = numThreads;
+	}
+
+	/**
+	 * Trains the model on the given corpus. Afterwards, the model is available from
+	 * getPhi() and getTheta().
+	 */
+	void train(Corpus corpus) throws InterruptedException {
+		this.corpus = corpus;
+		this.W = corpus.numTerms();
+		if (corpus.numTokens == 0){
+			throw new IllegalArgumentException("Cannot train LDA on an empty corpus");
+		}
+		if ((long) W * K > Integer.MAX_VALUE - 8){
+			throw new IllegalArgumentException("W x K = " + W + " x " + K + " is too large");
+		}
+		int threads = numThreads > 0 ? numThreads : Runtime.getRuntime().availableProcessors();
+		threads = Math.max(1, Math.min(threads, corpus.numDocs()));
+
+		logger.info(String.format("Training LDA: K=%d, D=%d, W=%d, %d tokens, %d iterations, alpha=%s, beta=%s, seed=%d, %d thread(s)",
+				K, corpus.numDocs(), W, corpus.numTokens, numIterations, alpha, beta, seed, threads));
+
+		Sampler[] samplers = partition(threads);
+		z = new int[corpus.numTokens];
+		nwk = new int[W * K];
+		nk = new int[K];
+
+		// Start from random topics
+		for (int i = 0; i < samplers.length; ++i){
+			samplers[i].initialize();
+		}
+		for (int i = 0; i < corpus.numTokens; ++i){
+			++nwk[corpus.tokens[i] * K + z[i]];
+			++nk[z[i]];
+		}
+
+		ExecutorService pool = Executors.newFixedThreadPool(samplers.length);
+		try {
+			long start = System.nanoTime();
+			long intervalStart = start;
+			for (int iter = 1; iter <= numIterations; ++iter){
+				takeSnapshot();
+				runAll(pool, samplers);
+				for (int i = 0; i < samplers.length; ++i){
+					samplers[i].merge();
+				}
+
+				if (iter % LOG_INTERVAL == 0 || iter == numIterations){
+					long now = System.nanoTime();
+					int iters = (iter - 1) % LOG_INTERVAL + 1;
+					double seconds = (now - intervalStart) / 1e9;
+					logger.info(String.format("Iteration %d of %d: %.1f tokens/sec",
+							iter, numIterations, (double) corpus.numTokens * iters / Math.max(seconds, 1e-9)));
+					intervalStart = now;
+				}
+			}
+			double seconds = (System.nanoTime() - start) / 1e9;
+			logger.info(String.format("Trained LDA in %.3f s (%.1f tokens/sec)",
+					seconds, (double) corpus.numTokens * numIterations / Math.max(seconds, 1e-9)));
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * The topics: phi[k][w] = (n_wk + beta) / (n_k + W*beta)
+	 */
+	float[][] getPhi() {
+		float[][] phi = new float[K][W];
+		for (int k = 0; k < K; ++k){
+			double denom = nk[k] + W * beta;
+			for (int w = 0; w < W; ++w){
+				phi[k][w] = (float) ((nwk[w * K + k] + beta) / denom);
+			}
+		}
+		return phi;
+	}
+
+	/**
+	 * The topic memberships: theta[d][k] = (n_dk + alpha) / (N_d + K*alpha)
+	 */
+	float[][] getTheta() {
+		int D = corpus.numDocs();
+		float[][] theta = new float[D][K];
+		int[] ndk = new int[K];
+		for (int d = 0; d < D; ++d){
+			Arrays.fill(ndk, 0);
+			for (int i = corpus.docStarts[d]; i < corpus.docStarts[d + 1]; ++i){
+				++ndk[z[i]];
+			}
+			double denom = corpus.docLength(d) + K * alpha;
+			for (int k = 0; k < K; ++k){
+				theta[d][k] = (float) ((ndk[k] + alpha) / denom);
+			}
+		}
+		return theta;
+	}
+
+	// Splits the documents into contiguous ranges of about the same number of tokens
+	private Sampler[] partition(int threads) {
+		List<Sampler> samplers = new ArrayList<Sampler>();
+		int from = 0;
+		for (int t = 0; t < threads; ++t){
+			long target = (long) corpus.numTokens * (t + 1) / threads;
+			int to = from;
+			while (to < corpus.numDocs() && (t == threads - 1 || corpus.docStarts[to] < target)){
+				++to;
+			}
+			if (to > from){
+				samplers.add(new Sampler(from, to, seed * 0x9E3779B97F4A7C15L + t));
+			}
+			from = to;
+		}
+		return samplers.toArray(new Sampler[samplers.size()]);
+	}
+
+	// Copies the nonzero word-topic counts into the word-major snapshot
+	private void takeSnapshot() {
+		if (wordStarts == null){
+			wordStarts = new int[W + 1];
+		}
+		int nnz = 0;
+		for (int w = 0; w < W; ++w){
+			wordStarts[w] = nnz;
+			int base = w * K;
+			for (int k = 0; k < K; ++k){
+				if (nwk[base + k] != 0){
+					++nnz;
+				}
+			}
+		}
+		wordStarts[W] = nnz;
+		if (wordTopics == null || wordTopics.length < nnz){
+			wordTopics = new int[nnz + nnz / 8];
+			wordCounts = new int[nnz + nnz / 8];
+		}
+		int pos = 0;
+		for (int w = 0; w < W; ++w){
+			int base = w * K;
+			for (int k = 0; k < K; ++k){
+				int count = nwk[base + k];
+				if (count != 0){
+					wordTopics[pos] = k;
+					wordCounts[pos] = count;
+					++pos;
+				}
+			}
+		}
+	}
+
+	private static void runAll(ExecutorService pool, Sampler[] samplers) throws InterruptedException {
+		List<Future<Void>> futures = pool.invokeAll(Arrays.<Callable<Void>>asList(samplers));
+		for (Future<Void> f : futures){
+			try {
+				f.get();
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof RuntimeException){
+					throw (RuntimeException) e.getCause();
+				}
+				throw new RuntimeException(e.getCause());
+			}
+		}
+	}
+
+
+	// Samples the topics of one range of documents
+	private class Sampler implements Callable<Void> {
+
+		private final int fromDoc;
+		private final int toDoc;
+		private final XorShiftRandom random;
+
+		// This thread's changes to nk during the sweep
+		private final int[] nkDelta = new int[K];
+
+		// This thread's changes to nwk during the sweep, as (word, old topic, new topic)
+		private int[] changes = new int[3 * 1024];
+		private int numChanges = 0;
+
+		// Scratch state
+		private final double[] denom = new double[K];   // W*beta + n_k
+		private final double[] coef = new double[K];    // (alpha + n_dk) / denom[k]
+		private final int[] ndk = new int[K];
+		private final int[] docTopics = new int[K];     // the topics with ndk > 0 ...
+		private final int[] docTopicPos = new int[K];   // ... and their positions in docTopics
+		private int numDocTopics;
+		private double[] wordMass = new double[K];
+
+		Sampler(int fromDoc, int toDoc, long seed) {
+			this.fromDoc = fromDoc;
+			this.toDoc = toDoc;
+			this.random = new XorShiftRandom(seed);
+		}
+
+		void initialize() {
+			for (int i = corpus.docStarts[fromDoc]; i < corpus.docStarts[toDoc]; ++i){
+				z[i] = random.nextInt(K);
+			}
+		}
+
+		// Applies this thread's deltas to the global counts
+		void merge() {
+			for (int i = 0; i < numChanges; i += 3){
+				int base = changes[i] * K;
+				--nwk[base + changes[i + 1]];
+				++nwk[base + changes[i + 2]];
+			}
+			numChanges = 0;
+			for (int k = 0; k < K; ++k){
+				nk[k] += nkDelta[k];
+				nkDelta[k] = 0;
+			}
+		}
+
+		public Void call() {
+			double betaW = beta * W;
+			double alphaBeta = alpha * beta;
+			for (int k = 0; k < K; ++k){
+				denom[k] = betaW + nk[k];
+				coef[k] = alpha / denom[k];
+			}
+			double s = smoothingMass(alphaBeta);
+
+			int[] tokens = corpus.tokens;
+			for (int d = fromDoc; d < toDoc; ++d){
+				int start = corpus.docStarts[d];
+				int end = corpus.docStarts[d + 1];
+				if (start == end){
+					continue;
+				}
+				if ((d - fromDoc) % REFRESH_INTERVAL == 0){
+					s = smoothingMass(alphaBeta);
+				}
+
+				// Count the topics of the document
+				numDocTopics = 0;
+				for (int i = start; i < end; ++i){
+					int k = z[i];
+					if (ndk[k]++ == 0){
+						addDocTopic(k);
+					}
+				}
+				double r = 0;
+				for (int j = 0; j < numDocTopics; ++j){
+					int k = docTopics[j];
+					r += ndk[k] * beta / denom[k];
+					coef[k] = (alpha + ndk[k]) / denom[k];
+				}
+
+				for (int i = start; i < end; ++i){
+					int w = tokens[i];
+					int old = z[i];
+
+					// Remove the token from the counts
+					s -= alphaBeta / denom[old];
+					r -= ndk[old] * beta / denom[old];
+					--ndk[old];
+					--nkDelta[old];
+					denom[old] -= 1;
+					s += alphaBeta / denom[old];
+					r += ndk[old] * beta / denom[old];
+					coef[old] = (alpha + ndk[old]) / denom[old];
+					if (ndk[old] == 0){
+						removeDocTopic(old);
+					}
+
+					// The word bucket, over the topics of w (less this token itself, which
+					// is still counted in the snapshot)
+					int wStart = wordStarts[w];
+					int wEnd = wordStarts[w + 1];
+					double q = 0;
+					for (int j = wStart; j < wEnd; ++j){
+						int k = wordTopics[j];
+						int count = (k == old) ? wordCounts[j] - 1 : wordCounts[j];
+						double mass = coef[k] * count;
+						wordMass[j - wStart] = mass;
+						q += mass;
+					}
+
+					// Sample the new topic
+					int k = -1;
+					double u = random.nextDouble() * (s + r + q);
+					if (u < q){
+						for (int j = wStart; j < wEnd; ++j){
+							u -= wordMass[j - wStart];
+							if (u <= 0){
+								k = wordTopics[j];
+								break;
+							}
+						}
+						if (k < 0){
+							k = wordTopics[wEnd - 1];
+						}
+					} else if ((u -= q) < r && numDocTopics > 0){
+						for (int j = 0; j < numDocTopics; ++j){
+							k = docTopics[j];
+							u -= ndk[k] * beta / denom[k];
+							if (u <= 0){
+								break;
+							}
+						}
+					} else {
+						u -= r;
+						for (k = 0; k < K - 1; ++k){
+							u -= alphaBeta / denom[k];
+							if (u <= 0){
+								break;
+							}
+						}
+					}
+
+					// Add the token back, with its new topic
+					s -= alphaBeta / denom[k];
+					r -= ndk[k] * beta / denom[k];
+					if (ndk[k]++ == 0){
+						addDocTopic(k);
+					}
+					++nkDelta[k];
+					denom[k] += 1;
+					s += alphaBeta / denom[k];
+					r += ndk[k] * beta / denom[k];
+					coef[k] = (alpha + ndk[k]) / denom[k];
+
+					z[i] = k;
+					if (k != old){
+						logChange(w, old, k);
+					}
+				}
+
+				// Reset the document's state
+				for (int j = 0; j < numDocTopics; ++j){
+					int k = docTopics[j];
+					ndk[k] = 0;
+					coef[k] = alpha / denom[k];
+				}
+				numDocTopics = 0;
+			}
+			return null;
+		}
+
+		private double smoothingMass(double alphaBeta) {
+			double s = 0;
+			for (int k = 0; k < K; ++k){
+				s += alphaBeta / denom[k];
+			}
+			return s;
+		}
+
+		private void addDocTopic(int k) {
+			docTopicPos[k] = numDocTopics;
+			docTopics[numDocTopics++] = k;
+		}
+
+		private void removeDocTopic(int k) {
+			int pos = docTopicPos[k];
+			int last = docTopics[--numDocTopics];
+			docTopics[pos] = last;
+			docTopicPos[last] = pos;
+		}
+
+		private void logChange(int w, int old, int k) {
+			if (numChanges + 3 > changes.length){
+				changes = Arrays.copyOf(changes, 2 * changes.length);
+			}
+			changes[numChanges++] = w;
+			changes[numChanges++] = old;
+			changes[numChanges++] = k;
+		}
+	}
+}
@@ -0,0 +1,247 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+HybridQueryAllInDirectory.java
+
+(Invoked from command line, or via main() method.)
+
+This command-line class reads all queries in the given directory, and throws them against a
+specified (prebuilt) index using both VSM and LDA, in a single pass (see HybridQueryEngine).
+The fused results are output in a given output directory, one file per query, in the same
+format as the other query tools. The VSM options are those of VSMQueryAllInDirectory; the
+LDA options are those of LDAQueryAllInDirectory.
+(Alternatively, the queries can be read from a single TSV or JSONL file, or stdin, and the
+results written to a single TREC or binary run file; see QueryReader and RunWriter.)
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.File;
+
+import org.apache.log4j.BasicConfigurator;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.store.NIOFSDirectory;
+
+import com.martiansoftware.jsap.FlaggedOption;
+import com.martiansoftware.jsap.JSAP;
+import com.martiansoftware.jsap.JSAPResult;
+import com.martiansoftware.jsap.Switch;
+import com.martiansoftware.jsap.UnflaggedOption;
+
+public class HybridQueryAllInDirectory {
+
+	private static int maxHits = 500;
+
+	private static final Logger logger = Logger.getRootLogger();
+
+	public static void main(String[] args) throws Exception {
+
+		// Set up the Apache log4j logger, only if we need to (another class or test case or ant
+		// may have already set up the logger.)
+		if (!logger.getAllAppenders().hasMoreElements()) {
+			BasicConfigurator.configure();
+			logger.setLevel(Level.INFO);
+		}
+
+		JSAP jsap = new JSAP();
+
+		UnflaggedOption opt0 = new UnflaggedOption("indexDir").setStringParser(
+				JSAP.STRING_PARSER).setRequired(true);
+		opt0.setHelp("The directory containing the pre-build Lucene index.");
+
+		UnflaggedOption opt0a = new UnflaggedOption("LDAIndexDir").setStringParser(
+				JSAP.STRING_PARSER).setRequired(true);
+		opt0a.setHelp("The directory containing the pre-build LDA index.");
+
+		UnflaggedOption opt1 = new UnflaggedOption("queryDir").setStringParser(
+				JSAP.STRING_PARSER).setRequired(true);
+		opt1.setHelp("The input directory containing queries to run against the specified index, one per file; or a file "
+				+ "of queries, or - for stdin (see --queryFormat).");
+
+		UnflaggedOption opt2 = new UnflaggedOption("resultsDir").setStringParser(
+				JSAP.STRING_PARSER).setRequired(true);
+		opt2.setHelp("The output directory for the results of each query: one file per original query in queryDirName; "
+				+ "or, with --runFormat trec or binary, the run file to write, or - for stdout.");
+
+		FlaggedOption opt3 = new FlaggedOption("K")
+				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+				.setLongFlag("K").setDefault("0");
+		opt3.setHelp("If multiple LDA configuration were run (i.e., multiple Ks), then specify which one to use."
+				+ "Default: the lowest K.");
+
+		FlaggedOption opt4 = new FlaggedOption("weightingCode")
+				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+				.setLongFlag("weightingCode").setDefault("1");
+		opt4.setHelp("An integer code that specifies the VSM term weighting option that should be used. "
+				+ "1=Linear, 2=Sublinear, 3=Boolean.");
+
+		FlaggedOption opt5 = new FlaggedOption("scoringCode")
+				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+				.setLongFlag("scoringCode").setDefault("1");
+		opt5.setHelp("An integer code that specifies the VSM scoring metric that should be used. "
+				+ "1=Cosine, 2=Overlap.");
+
+		FlaggedOption opt6 = new FlaggedOption("fusion")
+				.setStringParser(JSAP.STRING_PARSER).setRequired(false)
+				.setLongFlag("fusion").setDefault("linear");
+		opt6.setHelp("How to fuse the VSM and LDA scores of each document: linear (a weighted sum of the scores, each "
+				+ "divided by its maximum for the query) or rrf (reciprocal rank fusion). Default: linear.");
+
+		FlaggedOption opt7 = new FlaggedOption("vsmWeight")
+				.setStringParser(JSAP.FLOAT_PARSER).setRequired(false)
+				.setLongFlag("vsmWeight").setDefault("0.5");
+		opt7.setHelp("For linear fusion, the weight of the VSM score, from 0 to 1; the LDA score gets the rest. Default: 0.5.");
+
+		FlaggedOption opt8 = new FlaggedOption("rrfK")
+				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+				.setLongFlag("rrfK").setDefault(String.valueOf(HybridQueryEngine.DEFAULT_RRF_K));
+		opt8.setHelp("For rrf fusion, the constant added to each rank. Default: " + HybridQueryEngine.DEFAULT_RRF_K + ".");
+
+		FlaggedOption opt9 = new FlaggedOption("phiEpsilon")
+				.setStringParser(JSAP.FLOAT_PARSER).setRequired(false)
+				.setLongFlag("phiEpsilon").setDefault("0");
+		opt9.setHelp("Weights of a term in a topic at or below this value are ignored when computing the topics "
+				+ "of a query. Default: 0 (only exact zeros are ignored).");
+
+		FlaggedOption opt10 = new FlaggedOption("threads")
+				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+				.setLongFlag("threads").setDefault("0");
+		opt10.setHelp("The number of queries to execute concurrently. Default: one per available processor.");
+
+		FlaggedOption opt12 = new FlaggedOption("queryFormat")
+				.setStringParser(JSAP.STRING_PARSER).setRequired(false)
+				.setLongFlag("queryFormat").setDefault("auto");
+		opt12.setHelp("If queryDir is a file of queries (or - for stdin) rather than a directory, their format: tsv (a name, "
+				+ "a tab and the query text on each line), jsonl ({\"id\": ..., \"text\": ...} on each line), or auto "
+				+ "(jsonl if the file name ends with .jsonl or .json, and tsv otherwise). Default: auto.");
+
+		FlaggedOption opt13 = new FlaggedOption("runFormat")
+				.setStringParser(JSAP.STRING_PARSER).setRequired(false)
+				.setLongFlag("runFormat").setDefault("files");
+		opt13.setHelp("How to write the results: files (one file per query, in the directory resultsDir), trec (one TREC "
+				+ "run file, resultsDir, or - for stdout) or binary (one compact run file; see RunWriter). Default: files.");
+
+		FlaggedOption opt14 = new FlaggedOption("runTag")
+				.setStringParser(JSAP.STRING_PARSER).setRequired(false)
+				.setLongFlag("runTag").setDefault("hybrid");
+		opt14.setHelp("The name of the run, in the last column of a trec run file. Default: hybrid.");
+
+		FlaggedOption opt11 = new FlaggedOption("metrics")
+				.setStringParser(JSAP.STRING_PARSER).setRequired(false)
+				.setLongFlag("metrics");
+		opt11.setHelp("If given, write the timings and counters of each phase of the run to this file: as CSV if its "
+				+ "name ends with .csv, and as JSON otherwise. See Metrics.");
+
+		Switch sw0 = new Switch("help").setDefault("false").setLongFlag("help");
+		sw0.setHelp("Prints this message.");
+
+		Switch sw1 = new Switch("unordered").setDefault("false").setLongFlag("unordered");
+		sw1.setHelp("Write the results of each query as soon as it finishes, rather than in the order of the query files.");
+
+		jsap.registerParameter(sw0);
+		jsap.registerParameter(opt0);
+		jsap.registerParameter(opt0a);
+		jsap.registerParameter(opt1);
+		jsap.registerParameter(opt2);
+		jsap.registerParameter(opt3);
+		jsap.registerParameter(opt4);
+		jsap.registerParameter(opt5);
+		jsap.registerParameter(opt6);
+		jsap.registerParameter(opt7);
+		jsap.registerParameter(opt8);
+		jsap.registerParameter(opt9);
+		jsap.registerParameter(opt10);
+		jsap.registerParameter(opt11);
+		jsap.registerParameter(opt12);
+		jsap.registerParameter(opt13);
+		jsap.registerParameter(opt14);
+		jsap.registerParameter(sw1);
+
+		// check whether the command line was valid, and if it wasn't,
+		// display usage information and exit.
+		JSAPResult config = jsap.parse(args);
+		if (!config.success()) {
+			for (java.util.Iterator<?> errs = config.getErrorMessageIterator(); errs
+					.hasNext();) {
+				logger.error("Error: " + errs.next());
+			}
+			displayHelp(config, jsap);
+			return;
+		}
+
+		if (config.getBoolean("help")) {
+			displayHelp(config, jsap);
+			return;
+		}
+
+		HybridQueryEngine.Fusion fusion;
+		VSMSimilarity vsmSimilarity;
+		RunWriter.Format runFormat;
+		try {
+			fusion = HybridQueryEngine.Fusion.parse(config.getString("fusion"));
+			vsmSimilarity = VSMSimilarity.fromCodes(config.getInt("weightingCode"), config.getInt("scoringCode"));
+			runFormat = RunWriter.Format.parse(config.getString("runFormat"));
+			QueryReader.Format.parse(config.getString("queryFormat"), config.getString("queryDir"));
+		} catch (IllegalArgumentException e) {
+			logger.error("Error: " + e.getMessage());
+			return;
+		}
+		if (config.getString("resultsDir").equals("-")){
+			RunWriter.logToStderr();
+		}
+
+		// Open the LDA index (memory-mapped, so this is cheap)
+		LDAHelper lda = LDAHelper.load(config.getString("LDAIndexDir"));
+		lda.setTermTopicEpsilon(config.getFloat("phiEpsilon"));
+		try {
+			lda.which(config.getInt("K"));
+		} catch (IllegalArgumentException e) {
+			logger.error("Error: " + e.getMessage());
+			return;
+		}
+
+		// Open the index, once, for both models
+		long openStart = System.nanoTime();
+		IndexReader reader = IndexReader.open(NIOFSDirectory.open(new File(config.getString("indexDir"))), true);
+		IndexSearcher searcher = new IndexSearcher(reader);
+		Metrics.OPEN_INDEX.since(openStart);
+		searcher.setSimilarity(vsmSimilarity);
+		BooleanQuery.setMaxClauseCount(8192);
+
+		HybridQueryEngine engine = new HybridQueryEngine(searcher, lda, config.getInt("K"), maxHits, fusion);
+		engine.setVSMWeight(config.getFloat("vsmWeight"));
+		engine.setRRFK(config.getInt("rrfK"));
+		QueryExecutor executor = new QueryExecutor(config.getInt("threads"), !config.getBoolean("unordered"));
+		RunWriter out = new RunWriter(config.getString("resultsDir"), runFormat, config.getString("runTag"));
+		try {
+			executor.run(config.getString("queryDir"), config.getString("queryFormat"), engine, out);
+		} finally {
+			out.close();
+		}
+
+		// Close the index to save memory
+		reader.close();
+		if (config.contains("metrics")){
+			Metrics.writeTo(new File(config.getString("metrics")));
+		}
+	}
+
+	/* Use JSAP to display command-line usage information */
+	private static void displayHelp(JSAPResult config, JSAP jsap) {
+		System.err.println();
+		System.err.println("Usage: java " + HybridQueryAllInDirectory.class.getName());
+		System.err.println("                " + jsap.getUsage());
+		System.err.println();
+		System.err.println(jsap.getHelp());
+		System.err.println();
+	}
+}
@@ -0,0 +1,278 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+HybridQueryEngine.java
+
+Executes queries using both VSM and LDA, in a single pass over the index, and fuses the
+two scores of each document into one ranked list.
+
+For each segment, the engine walks the union of the documents that match the tf-idf
+query over "data" (as in VSMQueryEngine) and the documents that contain any of the
+query's topics (as in LDAQuery), in docId order. Each document gets its VSM score (0 if
+it does not match the terms) and its LDA score, the conditional probability (0 if it
+shares no topic with the query). Once every segment has been walked, the two scores are
+fused:
+
+* LINEAR: weight * vsm / maxVsm + (1 - weight) * lda / maxLda, where the maxima are over
+  the query's matches, so that both scores are on the same [0, 1] scale
+* RRF (reciprocal rank fusion): 1 / (rrfK + vsmRank) + 1 / (rrfK + ldaRank), where the
+  ranks start at 1, and a document that is not matched by one model gets nothing from it
+
+and the best maxHits documents (with a fused score above 0) are kept. So the index is
+opened and searched once, and no stored field is loaded except the "file" key of the
+results.
+
+The IndexSearcher (whose similarity should be the desired VSMSimilarity) and LDAHelper
+are shared by all threads; the matches of the query being executed are per-thread
+scratch state. The topic vector of a query is computed by an LDAQueryEngine, so its
+options (a QueryCache, fold-in) apply here too.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.queryParser.MultiFieldQueryParser;
+import org.apache.lucene.queryParser.QueryParser;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.OpenBitSet;
+import org.apache.lucene.util.OpenBitSetIterator;
+import org.apache.lucene.util.ReaderUtil;
+import org.apache.lucene.util.Version;
+
+class HybridQueryEngine implements QueryEngine {
+
+	static final int DEFAULT_RRF_K = 60;
+
+	enum Fusion {
+		LINEAR, RRF;
+
+		/**
+		 * Parses "linear" or "rrf" (in any case).
+		 */
+		static Fusion parse(String name) {
+			for (Fusion f : values()){
+				if (f.name().equalsIgnoreCase(name)){
+					return f;
+				}
+			}
+			throw new IllegalArgumentException("Unknown fusion: " + name + " (expected linear or rrf)");
+		}
+	}
+
+	private final IndexSearcher searcher;
+	private final LDAQueryEngine ldaEngine;
+	private final int K;
+	private final int maxHits;
+	private final Fusion fusion;
+
+	// The weight of the VSM score, for LINEAR fusion
+	private float vsmWeight = 0.5f;
+
+	// The rank offset, for RRF fusion
+	private int rrfK = DEFAULT_RRF_K;
+
+	// The segments of the index, and their first docIds
+	private final IndexReader[] segments;
+	private final int[] starts;
+
+	// One parser per thread
+	private final ThreadLocal<QueryParser> parsers = new ThreadLocal<QueryParser>() {
+		protected QueryParser initialValue() {
+			String[] fields = {"data"};
+			return new MultiFieldQueryParser(Version.LUCENE_35, fields, new SimpleAnalyzer());
+		}
+	};
+
+	// The scratch state of one thread
+	private class Scratch {
+		final float[] queryOpt = new float[K];
+		final int[] topics = new int[K];
+		final TopKRanker ranker = new TopKRanker(maxHits);
+
+		// The matches of the current query: top-level docId, and the two scores
+		int[] docs = new int[1024];
+		float[] vsm = new float[1024];
+		float[] lda = new float[1024];
+		int size;
+
+		// For RRF: the matches, sorted by one of the scores, and their fused scores
+		long[] order = new long[1024];
+		float[] fused = new float[1024];
+
+		void add(int doc, float vsmScore, float ldaScore) {
+			if (size == docs.length){
+				docs = Arrays.copyOf(docs, 2 * size);
+				vsm = Arrays.copyOf(vsm, 2 * size);
+				lda = Arrays.copyOf(lda, 2 * size);
+				order = new long[2 * size];
+				fused = new float[2 * size];
+			}
+			docs[size] = doc;
+			vsm[size] = vsmScore;
+			lda[size] = ldaScore;
+			++size;
+		}
+	}
+
+	private final ThreadLocal<Scratch> scratch = new ThreadLocal<Scratch>() {
+		protected Scratch initialValue() {
+			return new Scratch();
+		}
+	};
+
+	/**
+	 * @param searcher The searcher to use; its similarity should already be set to the
+	 *                 desired VSMSimilarity
+	 * @param lda The LDA index
+	 * @param K Which LDA scenario to use (see LDAHelper.which())
+	 * @param maxHits The maximum number of documents to return for each query
+	 * @param fusion How to fuse the VSM and LDA scores
+	 */
+	HybridQueryEngine(IndexSearcher searcher, LDAHelper lda, int K, int maxHits, Fusion fusion) {
+		this.searcher = searcher;
+		this.ldaEngine = new LDAQueryEngine(searcher, lda, K, maxHits);
+		this.K = lda.scens.get(lda.which(K)).K;
+		this.maxHits = maxHits;
+		this.fusion = fusion;
+
+		List<IndexReader> subs = new ArrayList<IndexReader>();
+		ReaderUtil.gatherSubReaders(subs, searcher.getIndexReader());
+		this.segments = subs.toArray(new IndexReader[subs.size()]);
+		this.starts = new int[segments.length];
+		int start = 0;
+		for (int i = 0; i < segments.length; ++i){
+			starts[i] = start;
+			start += segments[i].maxDoc();
+		}
+	}
+
+	// The weight of the VSM score (0 to 1), for LINEAR fusion; LDA gets the rest
+	void setVSMWeight(float vsmWeight) {
+		this.vsmWeight = vsmWeight;
+	}
+
+	// The rank offset, for RRF fusion
+	void setRRFK(int rrfK) {
+		this.rrfK = rrfK;
+	}
+
+	// The engine that computes the query topic vectors (e.g., to give it a cache)
+	LDAQueryEngine getLDAEngine() {
+		return ldaEngine;
+	}
+
+	public QueryResult execute(String name, String query) throws Exception {
+		long t = System.nanoTime();
+		Metrics.QUERIES.increment();
+
+		// Make sure query doesn't have numbers or punctuation, and skip blank queries
+		QueryTokenizer tokens = QueryTokenizer.get();
+		if (!tokens.tokenize(query)){
+			Metrics.BLANK_QUERIES.increment();
+			return null;
+		}
+		Metrics.SANITIZE.since(t);
+
+		Scratch s = scratch.get();
+		s.size = 0;
+		int numTopics = ldaEngine.queryVector(tokens, s.queryOpt, s.topics);
+		LDAQuery ldaQuery = new LDAQuery(K, s.queryOpt, Arrays.copyOf(s.topics, numTopics));
+		t = System.nanoTime();
+		Weight weight = searcher.createNormalizedWeight(tokens.query("data", parsers.get()));
+
+		// Walk the union of the VSM and LDA matches of each segment
+		for (int i = 0; i < segments.length; ++i){
+			Scorer vsm = weight.scorer(segments[i], true, false);
+			OpenBitSet candidates = numTopics == 0 ? null : ldaQuery.candidates(segments[i]);
+			OpenBitSetIterator lda = candidates == null ? null : new OpenBitSetIterator(candidates);
+			TopicVectorColumn column = candidates == null ? null : TopicVectorColumn.get(segments[i], K);
+
+			int vsmDoc = vsm == null ? DocIdSetIterator.NO_MORE_DOCS : vsm.nextDoc();
+			int ldaDoc = lda == null ? DocIdSetIterator.NO_MORE_DOCS : lda.nextDoc();
+			while (vsmDoc != DocIdSetIterator.NO_MORE_DOCS || ldaDoc != DocIdSetIterator.NO_MORE_DOCS){
+				int doc = Math.min(vsmDoc, ldaDoc);
+				float vsmScore = 0;
+				float ldaScore = 0;
+				if (vsmDoc == doc){
+					vsmScore = vsm.score();
+					vsmDoc = vsm.nextDoc();
+				}
+				if (ldaDoc == doc){
+					ldaScore = column.dot(doc, s.queryOpt);
+					ldaDoc = lda.nextDoc();
+				}
+				s.add(starts[i] + doc, vsmScore, ldaScore);
+			}
+		}
+
+		t = Metrics.SEARCH.since(t);
+
+		TopKRanker ranker = s.ranker;
+		ranker.reset(maxHits);
+		if (fusion == Fusion.LINEAR){
+			fuseLinear(s, ranker);
+		} else {
+			fuseRRF(s, ranker);
+		}
+		ranker.sort();
+		Metrics.RERANK.since(t);
+		Metrics.HITS.add(ranker.size());
+		return QueryResult.fromRanker(name, ranker, searcher);
+	}
+
+	private void fuseLinear(Scratch s, TopKRanker ranker) {
+		float maxVsm = 0;
+		float maxLda = 0;
+		for (int i = 0; i < s.size; ++i){
+			maxVsm = Math.max(maxVsm, s.vsm[i]);
+			maxLda = Math.max(maxLda, s.lda[i]);
+		}
+		float vsmScale = maxVsm > 0 ? vsmWeight / maxVsm : 0;
+		float ldaScale = maxLda > 0 ? (1 - vsmWeight) / maxLda : 0;
+		for (int i = 0; i < s.size; ++i){
+			float score = vsmScale * s.vsm[i] + ldaScale * s.lda[i];
+			if (score > 0){
+				ranker.offer(s.docs[i], score);
+			}
+		}
+	}
+
+	private void fuseRRF(Scratch s, TopKRanker ranker) {
+		float[] fused = s.fused;
+		Arrays.fill(fused, 0, s.size, 0f);
+		addReciprocalRanks(s, s.vsm, fused);
+		addReciprocalRanks(s, s.lda, fused);
+		for (int i = 0; i < s.size; ++i){
+			ranker.offer(s.docs[i], fused[i]);
+		}
+	}
+
+	// Ranks the matches with a nonzero score, best first (ties by docId, since the matches
+	// are in docId order), and adds 1 / (rrfK + rank) to the fused score of each
+	private void addReciprocalRanks(Scratch s, float[] scores, float[] fused) {
+		// A non-negative float's bits sort as the float does, so each key sorts by
+		// decreasing score, then by increasing index
+		int n = 0;
+		for (int i = 0; i < s.size; ++i){
+			if (scores[i] > 0){
+				s.order[n++] = ((long) (Integer.MAX_VALUE - Float.floatToIntBits(scores[i])) << 32) | i;
+			}
+		}
+		Arrays.sort(s.order, 0, n);
+		for (int r = 0; r < n; ++r){
+			fused[(int) s.order[r]] += 1f / (rrfK + r + 1);
+		}
+	}
+}
@@ -1,136 +1,265 @@
-/*
-####################################################################################
-Stephen W. Thomas
-sthomas@cs.queensu.ca
-Queen's University
-
-IndexDirectory.java
-
-Simple wrapper class for SimpleIndexer, when LDA has yet to be executed (and hence we
-need to execute it here.)
-
-TODO: This class is still under construction. 
-
-####################################################################################
-*/
-
-package ca.queensu.cs.sail.lucenelda;
-
-import java.io.File;
-import java.io.IOException;
-
-import org.apache.commons.io.FileUtils;
-
-import com.martiansoftware.jsap.FlaggedOption;
-import com.martiansoftware.jsap.JSAP;
-import com.martiansoftware.jsap.JSAPException;
-import com.martiansoftware.jsap.JSAPResult;
-import com.martiansoftware.jsap.Switch;
-import com.martiansoftware.jsap.UnflaggedOption;
-
-public class IndexDirectoryRunLDA {
-
-	public static void main(String[] args) throws Exception {
-
-		
-		// Use the JSAP library to intelligently set up and parse our command line options
-		 JSAP jsap = new JSAP();
-		 
-		 UnflaggedOption opt1 = new UnflaggedOption("inDir")
-         .setStringParser(JSAP.STRING_PARSER)
-         .setRequired(true);
-		 opt1.setHelp("The input directory containing files on which to build the index");
-		 
-		 UnflaggedOption opt2 = new UnflaggedOption("outDir")
-         .setStringParser(JSAP.STRING_PARSER)
-         .setRequired(true);
-		 opt2.setHelp("The output directory for the resultant Lucene index");
-		 
-		UnflaggedOption opt2a = new UnflaggedOption("outLDAIndex").setStringParser(
-					JSAP.STRING_PARSER).setRequired(true);
-		opt2a.setHelp("The output directory for the resultant LDA index");
-		 
-		 FlaggedOption opt3 = new FlaggedOption("fileCodes")
-		 .setStringParser(JSAP.STRING_PARSER)
-         .setRequired(false)
-         .setLongFlag("fileCodes");
-		 opt2.setHelp("A file containing a mapping between filenames and some key. " +
-				 	  "If specified, the query results will list the key instead of the filename.");
-		 
-		 Switch sw0 = new Switch("help")
-         .setDefault("false")
-         .setLongFlag("help");
-		 sw0.setHelp("Prints this message.");
-		 
-		 FlaggedOption opt4 = new FlaggedOption("numK")
-		 .setStringParser(JSAP.INTEGER_PARSER)
-         .setRequired(false)
-         .setDefault("50")
-         .setLongFlag("numK");
-		opt4.setHelp("Number of topics to run.");
-		 
-		jsap.registerParameter(sw0);
-		jsap.registerParameter(opt1);
-		jsap.registerParameter(opt2);
-		jsap.registerParameter(opt2a);
-		jsap.registerParameter(opt3);
-		jsap.registerParameter(opt4);
-
-        // check whether the command line was valid, and if it wasn't,
-        // display usage information and exit.
-		JSAPResult config = jsap.parse(args);  
-        if (!config.success()) {
-        	for (java.util.Iterator errs = config.getErrorMessageIterator(); errs.hasNext();) {
-        		System.err.println("Error: " + errs.next());
-        	}
-        	displayHelp(config, jsap);
-            return;
-        }
-        
-        if (config.getBoolean("help")){
-        	displayHelp(config, jsap);
-        	return;
-        }
-	        
-		 String inDirName = config.getString("inDir");
-		 String outDirName = config.getString("outDir");
-			
-	    // Make sure the code, bugs, and lda files exist
-	    if (! (new File((inDirName)).exists())){
-	        System.err.println("Error: " + inDirName + " does not exist.");
-	        return;
-	    }
-	        
-	    // If the output directory already exists, remove it (or else Lucene will complain)
-		File indexDir   = new File(outDirName + "/index");
-        if (indexDir.exists()){
-            FileUtils.deleteDirectory(indexDir);
-        } 
-        
-        // Read the fileCodes, if there is one
-        if (config.getString("fileCodes") != null){
-        	// TODO
-        }
-
-
-        // TODO: Run LDA, and build an LDAHelper object
-        LDAHelper ldaHelper = new LDAHelper();
-        ldaHelper.runLDA(config.getInt("numK"), inDirName);
-		
-		// Build the index, with the options specified.
-		SimpleIndexer.indexDirectory(inDirName, outDirName, config.getString("fileCodes"), ldaHelper);
-	
-		
-	}
-
-	/* Use JSAP to display command-line usage information */
-	private static void displayHelp(JSAPResult config, JSAP jsap) {
-		System.err.println();
-        System.err.println("Usage: java "+ IndexDirectory.class.getName());
-        System.err.println("                " + jsap.getUsage());
-        System.err.println();
-        System.err.println(jsap.getHelp());
-        System.err.println();
-	}
-}
-
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+IndexDirectoryRunLDA.java
+
+Simple wrapper class for SimpleIndexer, when LDA has yet to be executed (and hence we
+need to execute it here.)
+
+LDA is trained in-process, on every file in the input directory (see GibbsLDATrainer),
+and the resulting scenario is written as the LDA index and used to build the Lucene
+index, just as if it had been read from the output of an external LDA tool.
+
+With --update, an existing index and LDA index are instead brought up to date with the
+input directory, without re-running LDA (see IndexUpdater).
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.log4j.BasicConfigurator;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.lucene.index.IndexWriterConfig;
+
+import com.martiansoftware.jsap.FlaggedOption;
+import com.martiansoftware.jsap.JSAP;
+import com.martiansoftware.jsap.JSAPException;
+import com.martiansoftware.jsap.JSAPResult;
+import com.martiansoftware.jsap.Switch;
+import com.martiansoftware.jsap.UnflaggedOption;
+
+public class IndexDirectoryRunLDA {
+
+	private static final Logger logger = Logger.getRootLogger();
+
+	public static void main(String[] args) throws Exception {
+
+		// Set up the Apache log4j logger, only if we need to (another class or test case or ant
+		// may have already set up the logger.)
+		if (!logger.getAllAppenders().hasMoreElements()) {
+			BasicConfigurator.configure();
+			logger.setLevel(Level.INFO);
+		}
+		
+		// Use the JSAP library to intelligently set up and parse our command line options
+		 JSAP jsap = new JSAP();
+		 
+		 UnflaggedOption opt1 = new UnflaggedOption("inDir")
+         .setStringParser(JSAP.STRING_PARSER)
+         .setRequired(true);
+		 opt1.setHelp("The input directory containing files on which to build the index");
+		 
+		 UnflaggedOption opt2 = new UnflaggedOption("outDir")
+         .setStringParser(JSAP.STRING_PARSER)
+         .setRequired(true);
+		 opt2.setHelp("The output directory for the resultant Lucene index");
+		 
+		UnflaggedOption opt2a = new UnflaggedOption("outLDAIndex").setStringParser(
+					JSAP.STRING_PARSER).setRequired(true);
+		opt2a.setHelp("The output directory for the resultant LDA index");
+		 
+		 FlaggedOption opt3 = new FlaggedOption("fileCodes")
+		 .setStringParser(JSAP.STRING_PARSER)
+         .setRequired(false)
+         .setLongFlag("fileCodes");
+		 opt3.setHelp("A file containing a mapping between filenames and some key. " +
+				 	  "If specified, the query results will list the key instead of the filename.");
+		 
+		 Switch sw0 = new Switch("help")
+         .setDefault("false")
+         .setLongFlag("help");
+		 sw0.setHelp("Prints this message.");
+		 
+		 FlaggedOption opt4 = new FlaggedOption("numK")
+		 .setStringParser(JSAP.INTEGER_PARSER)
+         .setRequired(false)
+         .setDefault("50")
+         .setLongFlag("numK");
+		opt4.setHelp("Number of topics to run.");
+
+		FlaggedOption opt5 = new FlaggedOption("iterations")
+				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+				.setDefault("1000").setLongFlag("iterations");
+		opt5.setHelp("Number of Gibbs sampling iterations.");
+
+		FlaggedOption opt6 = new FlaggedOption("alpha")
+				.setStringParser(JSAP.DOUBLE_PARSER).setRequired(false)
+				.setDefault("0.1").setLongFlag("alpha");
+		opt6.setHelp("The Dirichlet prior on the topics of each document.");
+
+		FlaggedOption opt7 = new FlaggedOption("beta")
+				.setStringParser(JSAP.DOUBLE_PARSER).setRequired(false)
+				.setDefault("0.01").setLongFlag("beta");
+		opt7.setHelp("The Dirichlet prior on the words of each topic.");
+
+		FlaggedOption opt8 = new FlaggedOption("seed")
+				.setStringParser(JSAP.LONG_PARSER).setRequired(false)
+				.setDefault("1").setLongFlag("seed");
+		opt8.setHelp("The random seed. (Training is repeatable for the same seed and number of threads.)");
+
+		FlaggedOption opt9 = new FlaggedOption("threads")
+				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+				.setDefault("0").setLongFlag("threads");
+		opt9.setHelp("The number of threads to train and index with. 0 (the default) means one per available processor.");
+
+		FlaggedOption opt10 = new FlaggedOption("thetaThreshold")
+				.setStringParser(JSAP.FLOAT_PARSER).setRequired(false)
+				.setLongFlag("thetaThreshold");
+		opt10.setHelp("If given, the topic memberships of each document (theta) are held, indexed and saved in sparse form, "
+				+ "keeping only the weights greater than this. 0 drops only exact zeros. With --update, the threshold "
+				+ "that the index was built with is used, and if given, this must be it.");
+		 
+		FlaggedOption opt11 = new FlaggedOption("phiEncoding")
+				.setStringParser(JSAP.STRING_PARSER).setRequired(false)
+				.setDefault("float").setLongFlag("phiEncoding");
+		opt11.setHelp("How to store the term memberships of each topic (phi): float (the default), half (half-precision floats), "
+				+ "or byte (8 bits per weight, with a scale per topic). See PhiDriftReport for the effect on rankings.");
+
+		FlaggedOption opt12 = new FlaggedOption("annMetric")
+				.setStringParser(JSAP.STRING_PARSER).setRequired(false)
+				.setLongFlag("annMetric");
+		opt12.setHelp("If given, also build an approximate nearest-neighbour index of the documents' topic vectors, for "
+				+ "each scenario, ranking by innerProduct (conditional probability) or hellinger distance. "
+				+ "See queryWithLDA --ann.");
+
+		FlaggedOption opt13 = new FlaggedOption("metrics")
+				.setStringParser(JSAP.STRING_PARSER).setRequired(false)
+				.setLongFlag("metrics");
+		opt13.setHelp("If given, write the timings and counters of each phase of the run to this file: as CSV if its "
+				+ "name ends with .csv, and as JSON otherwise. See Metrics.");
+
+		Switch sw1 = new Switch("update").setDefault("false").setLongFlag("update");
+		sw1.setHelp("If the index and LDA index already exist, only re-index the files that were added, modified or "
+				+ "deleted since they were built, keeping the trained topics (the topics of the changed files are "
+				+ "inferred; --alpha and --seed apply). Otherwise, build them from scratch.");
+
+		jsap.registerParameter(sw0);
+		jsap.registerParameter(sw1);
+		jsap.registerParameter(opt1);
+		jsap.registerParameter(opt2);
+		jsap.registerParameter(opt2a);
+		jsap.registerParameter(opt3);
+		jsap.registerParameter(opt4);
+		jsap.registerParameter(opt5);
+		jsap.registerParameter(opt6);
+		jsap.registerParameter(opt7);
+		jsap.registerParameter(opt8);
+		jsap.registerParameter(opt9);
+		jsap.registerParameter(opt10);
+		jsap.registerParameter(opt11);
+		jsap.registerParameter(opt12);
+		jsap.registerParameter(opt13);
+
+        // check whether the command line was valid, and if it wasn't,
+        // display usage information and exit.
+		JSAPResult config = jsap.parse(args);  
+        if (!config.success()) {
+        	for (java.util.Iterator errs = config.getErrorMessageIterator(); errs.hasNext();) {
+        		System.err.println("Error: " + errs.next());
+        	}
+        	displayHelp(config, jsap);
+            return;
+        }
+        
+        if (config.getBoolean("help")){
+        	displayHelp(config, jsap);
+        	return;
+        }
+	        
+		 String inDirName = config.getString("inDir");
+		 String outDirName = config.getString("outDir");
+		 String outLDAIndexName = config.getString("outLDAIndex");
+		 int numThreads = config.getInt("threads");
+			
+	    // Make sure the code, bugs, and lda files exist
+	    if (! (new File((inDirName)).exists())){
+	        System.err.println("Error: " + inDirName + " does not exist.");
+	        return;
+	    }
+	        
+		File indexDir   = new File(outDirName);
+		if (config.getBoolean("update")){
+			if (indexDir.exists() && new File(outLDAIndexName).exists()){
+				IndexUpdater updater = new IndexUpdater(new File(inDirName), indexDir, new File(outLDAIndexName),
+						config.getString("fileCodes"));
+				updater.setNumThreads(numThreads);
+				updater.setAlpha(config.getDouble("alpha"));
+				updater.setSeed(config.getLong("seed"));
+				if (config.contains("thetaThreshold")){
+					updater.setThetaThreshold(config.getFloat("thetaThreshold"));
+				}
+				updater.run();
+				if (config.contains("annMetric")){
+					TopicVectorIndex.buildAll(indexDir, outLDAIndexName, TopicVectorIndex.Metric.parse(config.getString("annMetric")));
+				}
+				logger.info("Done updating directory");
+				if (config.contains("metrics")){
+					Metrics.writeTo(new File(config.getString("metrics")));
+				}
+				return;
+			}
+			logger.info("No index to update; building it from scratch");
+		}
+
+	    // If the output directory already exists, remove it (or else Lucene will complain)
+        if (indexDir.exists()){
+            logger.info("Deleting index directory " + indexDir.toString());
+            FileUtils.deleteDirectory(indexDir);
+        } 
+        
+        // Read the fileCodes, if there is one
+        if (config.getString("fileCodes") != null){
+        	// TODO: this functionality currently is placed in SimpleIndexer.
+        }
+
+        // Run LDA, and build an LDAHelper object
+        GibbsLDATrainer trainer = new GibbsLDATrainer(config.getInt("numK"));
+        trainer.setIterations(config.getInt("iterations"));
+        trainer.setAlpha(config.getDouble("alpha"));
+        trainer.setBeta(config.getDouble("beta"));
+        trainer.setSeed(config.getLong("seed"));
+        trainer.setNumThreads(numThreads);
+
+        LDAHelper ldaHelper = new LDAHelper();
+        ldaHelper.setPhiEncoding(QuantizedPhi.Encoding.parse(config.getString("phiEncoding")));
+        if (config.contains("thetaThreshold")){
+        	ldaHelper.setThetaThreshold(config.getFloat("thetaThreshold"));
+        }
+        ldaHelper.runLDA(trainer, inDirName, numThreads);
+
+        // Write the LDA index (see LDAModelFile for the format)
+        ldaHelper.save(outLDAIndexName);
+		
+		// Build the index, with the options specified.
+		SimpleIndexer.indexDirectory(inDirName, outDirName, config.getString("fileCodes"), ldaHelper,
+				numThreads, IndexWriterConfig.DEFAULT_RAM_BUFFER_SIZE_MB, 0);
+		if (config.contains("annMetric")){
+			TopicVectorIndex.buildAll(indexDir, outLDAIndexName, TopicVectorIndex.Metric.parse(config.getString("annMetric")));
+		}
+
+		logger.info("Done indexing directory");
+		if (config.contains("metrics")){
+			Metrics.writeTo(new File(config.getString("metrics")));
+		}
+	}
+
+	/* Use JSAP to display command-line usage information */
+	private static void displayHelp(JSAPResult config, JSAP jsap) {
+		System.err.println();
+        System.err.println("Usage: java "+ IndexDirectoryRunLDA.class.getName());
+        System.err.println("                " + jsap.getUsage());
+        System.err.println();
+        System.err.println(jsap.getHelp());
+        System.err.println();
+	}
+}
+
@@ -0,0 +1,401 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+IndexUpdater.java
+
+Brings an existing index and LDA index up to date with the files in a directory, re-indexing
+only the files that have changed since they were indexed (see --update of IndexDirectory and
+IndexDirectoryRunLDA).
+
+Each document of the index holds the path of its file, relative to the indexed directory,
+and the last-modified time and length of the file when it was indexed (see SimpleIndexer).
+An update compares those with the files now in the directory:
+
+* added files (paths that are not in the index) are indexed
+* modified files (whose last-modified time or length changed) are re-indexed, replacing
+  their old documents
+* deleted files (paths in the index that are no longer in the directory) are removed
+
+The LDA model itself (the topics, phi, and the vocabulary) is kept as it is: LDA is not
+re-run. The topic memberships (theta) of the added and modified files are instead
+estimated by folding them in to the model (see TopicInferencer); the rows of the other
+files are kept, and those of the deleted files dropped. These changes are written to the
+delta of the LDA index (see ModelDelta), rather than to the LDA index itself, so that both
+sides cost time in proportion to the number of changed files. Once the delta holds more
+than a fraction (see setMaxDeltaFraction()) of the rows of the LDA index, the LDA index is
+rewritten with the changes instead, and the delta deleted; the same happens for an LDA
+index written by an older version, which cannot have a delta.
+
+The LDA index is only written once the changes to the index are ready to commit (see
+IndexWriter.prepareCommit()), so that a failed update leaves both as they were.
+
+Once too much of the corpus has changed, the topics no longer describe it well, and the
+index should be rebuilt from scratch (re-running LDA).
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.MapFieldSelector;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+class IndexUpdater {
+
+	private static final Logger logger = Logger.getRootLogger();
+
+	private final File inDir;
+	private final File indexDir;
+	private final File ldaIndexFile;
+	private final String fileCodeFileName;
+
+	private int numThreads = 0;
+	private double ramBufferMB = IndexWriterConfig.DEFAULT_RAM_BUFFER_SIZE_MB;
+	private int mergeFactor = 0;
+
+	// The settings of the fold-in of changed files
+	private int iterations = 50;
+	private double alpha = 0.1;
+	private long seed = 1;
+	private Float thetaThreshold;
+
+	// The largest share of the rows of the LDA index that its delta may hold
+	private double maxDeltaFraction = 0.25;
+
+	/**
+	 * @param inDir The directory of files that was indexed
+	 * @param indexDir The (existing) index of the files
+	 * @param ldaIndexFile The (existing) LDA index
+	 * @param fileCodeFileName The file codes file (see SimpleIndexer.readFileCodes())
+	 */
+	IndexUpdater(File inDir, File indexDir, File ldaIndexFile, String fileCodeFileName) {
+		this.inDir = inDir;
+		this.indexDir = indexDir;
+		this.ldaIndexFile = ldaIndexFile;
+		this.fileCodeFileName = fileCodeFileName;
+	}
+
+	// 0 means one per available processor
+	void setNumThreads(int numThreads) {
+		this.numThreads = numThreads;
+	}
+
+	void setRAMBufferMB(double ramBufferMB) {
+		this.ramBufferMB = ramBufferMB;
+	}
+
+	// 0 means Lucene's default
+	void setMergeFactor(int mergeFactor) {
+		this.mergeFactor = mergeFactor;
+	}
+
+	// The number of sweeps of the fold-in over each changed file
+	void setIterations(int iterations) {
+		this.iterations = iterations;
+	}
+
+	// The Dirichlet prior on the topics of each document, for the fold-in
+	void setAlpha(double alpha) {
+		this.alpha = alpha;
+	}
+
+	void setSeed(long seed) {
+		this.seed = seed;
+	}
+
+	// For a scenario whose theta is sparse, the threshold that it was built with. If not
+	// given, the one recorded in the LDA index is used; if given, it must be that one.
+	void setThetaThreshold(float thetaThreshold) {
+		this.thetaThreshold = thetaThreshold;
+	}
+
+	// Once the delta of the LDA index would hold more than this share of its rows (changed
+	// and deleted files), the LDA index is rewritten instead; 0 always rewrites it
+	void setMaxDeltaFraction(double maxDeltaFraction) {
+		this.maxDeltaFraction = maxDeltaFraction;
+	}
+
+
+	/**
+	 * Updates the index and the LDA index.
+	 *
+	 * @throws IOException If the index was not built with the paths of its files (by an
+	 *                     older version), or cannot be updated
+	 */
+	void run() throws IOException {
+		long start = System.nanoTime();
+		if (!SimpleIndexer.readFileCodes(fileCodeFileName)){
+			throw new IOException("Cannot read the file codes " + fileCodeFileName);
+		}
+		Directory directory = FSDirectory.open(indexDir);
+
+		// Compare what was indexed with what is in the directory now
+		Map<String, String> indexed = readStamps(directory);
+		List<File> files = new ArrayList<File>();
+		Corpus.listFiles(inDir, files);
+
+		List<File> changed = new ArrayList<File>();
+		Set<String> changedNames = new HashSet<String>();
+		Set<String> paths = new HashSet<String>();
+		int numAdded = 0;
+		for (File f : files){
+			String path = SimpleIndexer.relativePath(inDir, f);
+			paths.add(path);
+			String stamp = indexed.get(path);
+			if (stamp == null || !stamp.equals(SimpleIndexer.stamp(f))){
+				numAdded += stamp == null ? 1 : 0;
+				changed.add(f);
+				changedNames.add(f.getName());
+			}
+		}
+		List<String> deleted = new ArrayList<String>();
+		for (String path : indexed.keySet()){
+			if (!paths.contains(path)){
+				deleted.add(path);
+			}
+		}
+		logger.info(String.format("Updating %s: %d file(s) added, %d modified, %d deleted, %d unchanged",
+				indexDir, numAdded, changed.size() - numAdded, deleted.size(), files.size() - changed.size()));
+		if (changed.isEmpty() && deleted.isEmpty()){
+			logger.info("The index is up to date");
+			return;
+		}
+
+		// First the LDA index, since the new documents are built from it. Fold in the
+		// changed files (and any that the old model lacks) all at once.
+		LDAHelper old = LDAHelper.load(ldaIndexFile.getPath());
+		for (LDAHelper.LDAK oldk : old.scens){
+			SparseTheta sparse = oldk.getSparseTheta();
+			if (sparse != null && thetaThreshold != null && thetaThreshold != sparse.threshold){
+				throw new IOException("The LDA index " + ldaIndexFile + " was built with a theta threshold of "
+						+ sparse.threshold + " for K=" + oldk.K + ", not " + thetaThreshold
+						+ "; update it with the same threshold, or rebuild it");
+			}
+		}
+		List<List<File>> folded = new ArrayList<List<File>>();
+		List<float[][]> rows = new ArrayList<float[][]>();
+		for (LDAHelper.LDAK oldk : old.scens){
+			List<File> toInfer = new ArrayList<File>();
+			for (File f : files){
+				if (changedNames.contains(f.getName()) || oldk.getFileId(f.getName()) < 0){
+					toInfer.add(f);
+				}
+			}
+			TopicInferencer inferencer = new TopicInferencer(oldk, seed);
+			inferencer.setIterations(iterations);
+			inferencer.setAlpha(alpha);
+			folded.add(toInfer);
+			rows.add(inferencer.infer(toInfer, numThreads));
+		}
+		// The updated model, in memory: the old model with the new delta applied, or
+		// the rewritten model. Nothing is written to disk until the index is ready to commit.
+		List<ModelDelta> deltas = LDAModelFile.isModelFile(ldaIndexFile)
+				? updateDeltas(old, files, folded, rows, deleted) : null;
+		LDAHelper lda;
+		if (deltas != null){
+			lda = LDAModelFile.read(ldaIndexFile);
+			ModelDelta.applyTo(lda, deltas.toArray(new ModelDelta[deltas.size()]));
+		} else {
+			lda = updateModel(old, files, folded, rows);
+		}
+
+		IndexWriterConfig config = SimpleIndexer.newWriterConfig(numThreads, ramBufferMB, mergeFactor);
+		config.setOpenMode(IndexWriterConfig.OpenMode.APPEND);
+		IndexWriter writer = new IndexWriter(directory, config);
+		boolean committed = false;
+		try {
+			for (String path : deleted){
+				writer.deleteDocuments(new Term(SimpleIndexer.PATH_FIELD, path));
+			}
+			if (!changed.isEmpty()){
+				new IndexingPipeline(writer, lda, numThreads).update(inDir, changed);
+			}
+			Metrics.DELETED_DOCUMENTS.add(deleted.size());
+
+			// Commit the index and the LDA index together. The index's changes are flushed
+			// and synced first, so that once the LDA index is written, only the final step of
+			// the commit is left; if anything fails before that, the index is rolled back, and
+			// both are left as they were.
+			long commitStart = System.nanoTime();
+			writer.prepareCommit();
+			if (deltas != null){
+				ModelDelta.write(deltas, ldaIndexFile);
+			} else {
+				lda.save(ldaIndexFile.getPath());
+			}
+			writer.commit();
+			committed = true;
+			writer.close();
+			Metrics.COMMIT.since(commitStart);
+		} finally {
+			if (!committed){
+				writer.rollback();
+			}
+		}
+
+		logger.info(String.format("Updated %s in %.3f s", indexDir, (System.nanoTime() - start) / 1e9));
+	}
+
+
+	// Returns the stamp of every (live) document of the index, by path
+	private Map<String, String> readStamps(Directory directory) throws IOException {
+		Map<String, String> stamps = new HashMap<String, String>();
+		MapFieldSelector selector = new MapFieldSelector(SimpleIndexer.PATH_FIELD, SimpleIndexer.STAMP_FIELD);
+		IndexReader reader = IndexReader.open(directory, true);
+		try {
+			for (int i = 0; i < reader.maxDoc(); ++i){
+				if (reader.isDeleted(i)){
+					continue;
+				}
+				Document doc = reader.document(i, selector);
+				String path = doc.get(SimpleIndexer.PATH_FIELD);
+				if (path == null){
+					throw new IOException(indexDir + " was built by an older version, without the paths of its files; "
+							+ "rebuild it without --update");
+				}
+				stamps.put(path, doc.get(SimpleIndexer.STAMP_FIELD));
+			}
+		} finally {
+			reader.close();
+		}
+		return stamps;
+	}
+
+
+	/**
+	 * Returns the delta of each scenario of the model (see ModelDelta), with the given
+	 * folded-in rows and the deleted files recorded in it, or null if a delta would then
+	 * hold too many rows (see setMaxDeltaFraction()), and the model should be rewritten
+	 * instead.
+	 *
+	 * @param folded The files that were folded in to each scenario
+	 * @param rows Their rows of theta
+	 * @param deleted The paths of the deleted files
+	 */
+	private List<ModelDelta> updateDeltas(LDAHelper old, List<File> files, List<List<File>> folded,
+			List<float[][]> rows, List<String> deleted) {
+		Set<String> names = new HashSet<String>();
+		for (File f : files){
+			names.add(f.getName());
+		}
+		List<ModelDelta> deltas = new ArrayList<ModelDelta>();
+		for (int i = 0; i < old.scens.size(); ++i){
+			LDAHelper.LDAK oldk = old.scens.get(i);
+			ModelDelta delta = oldk.delta != null ? new ModelDelta(oldk.delta) : new ModelDelta(oldk.K);
+			boolean sparse = oldk.getSparseTheta() != null;
+			float threshold = sparse ? oldk.getSparseTheta().threshold : 0;
+			for (int j = 0; j < folded.get(i).size(); ++j){
+				float[] row = rows.get(i)[j];
+				if (sparse){
+					// As SparseTheta.Builder would keep it
+					for (int k = 0; k < row.length; ++k){
+						if (row[k] <= threshold){
+							row[k] = 0;
+						}
+					}
+				}
+				delta.put(folded.get(i).get(j).getName(), row);
+			}
+			for (String path : deleted){
+				String name = new File(path).getName();
+				if (!names.contains(name) && oldk.getFileId(name) >= 0){
+					delta.delete(name);
+				}
+			}
+
+			int modelRows = oldk.D - (oldk.delta != null ? oldk.delta.numRows() : 0);
+			if (delta.size() > maxDeltaFraction * modelRows){
+				logger.info(String.format("The delta of LDA scenario K=%d would hold %d change(s) to its %d row(s); "
+						+ "rewriting the LDA index", oldk.K, delta.size(), modelRows));
+				return null;
+			}
+			logger.info(String.format("Updated LDA scenario K=%d: %d row(s) folded in; its delta holds %d row(s) "
+					+ "and %d deletion(s)", oldk.K, folded.get(i).size(), delta.numRows(), delta.size() - delta.numRows()));
+			deltas.add(delta);
+		}
+		return deltas;
+	}
+
+
+	/**
+	 * Returns a copy of the model with one row of theta for each of the given files (in
+	 * order): the old row of an unchanged file, or a folded-in row for a changed (or new)
+	 * one. The topics and vocabulary are shared with the old model.
+	 *
+	 * @param folded The files that were folded in to each scenario
+	 * @param rows Their rows of theta
+	 */
+	private LDAHelper updateModel(LDAHelper old, List<File> files, List<List<File>> folded, List<float[][]> rows) {
+		LDAHelper lda = new LDAHelper();
+		for (int i = 0; i < old.scens.size(); ++i){
+			LDAHelper.LDAK oldk = old.scens.get(i);
+			LDAHelper.LDAK ldak = lda.new LDAK();
+			ldak.K = oldk.K;
+			ldak.W = oldk.W;
+			ldak.phi = oldk.phi;
+			ldak.phiStore = oldk.phiStore;
+			ldak.termMap = oldk.termMap;
+			ldak.termTable = oldk.termTable;
+			ldak.termTopicEpsilon = oldk.termTopicEpsilon;
+			List<File> toInfer = folded.get(i);
+			float[][] inferred = rows.get(i);
+
+			boolean sparse = oldk.getSparseTheta() != null;
+			float threshold = sparse ? oldk.getSparseTheta().threshold : 0;
+			SparseTheta.Builder builder = sparse ? new SparseTheta.Builder(0, ldak.K, threshold) : null;
+			float[][] theta = sparse ? null : new float[files.size()][];
+			int next = 0;
+			for (int d = 0; d < files.size(); ++d){
+				File f = files.get(d);
+				float[] row;
+				if (next < toInfer.size() && toInfer.get(next) == f){
+					row = inferred[next++];
+				} else {
+					int oldRow = oldk.getFileId(f.getName());
+					row = new float[ldak.K];
+					for (int k = 0; k < ldak.K; ++k){
+						row[k] = oldk.getTheta(oldRow, k);
+					}
+				}
+				if (sparse){
+					builder.addRow(row);
+				} else {
+					theta[d] = row;
+				}
+				if (ldak.fileMap.put(f.getName(), d) != null){
+					logger.warn("Duplicate file name " + f.getName() + "; only the last one can be looked up");
+				}
+			}
+			ldak.D = files.size();
+			if (sparse){
+				ldak.thetaStore = SparseTheta.Builder.build(Arrays.asList(builder), ldak.D, ldak.K, threshold);
+			} else {
+				ldak.theta = theta;
+			}
+			logger.info(String.format("Updated LDA scenario K=%d: %d row(s) kept, %d folded in", ldak.K,
+					ldak.D - toInfer.size(), toInfer.size()));
+			lda.scens.add(ldak);
+		}
+		return lda;
+	}
+}
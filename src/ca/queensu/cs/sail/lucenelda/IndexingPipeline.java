@@ -0,0 +1,286 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+IndexingPipeline.java
+
+Indexes a directory tree on several threads at once, as a producer/consumer pipeline:
+
+* Walkers list the directories (each directory is one task on the walker pool, which
+  submits a new task for each of its subdirectories) and put the files they find on
+  a bounded queue. Since the queue is bounded, the walkers never get far ahead of the
+  workers, no matter how large the tree.
+
+* Workers take files off the queue, read them and build their Documents (see
+  SimpleIndexer.buildDocument), and add them to the shared IndexWriter, which is
+  thread-safe.
+
+An update (see IndexUpdater) runs the same workers over a given list of files, and
+replaces each file's old document (found by its path) instead of adding a new one.
+
+If any walker or worker fails, the pipeline stops and the first error is rethrown.
+At the end of the run (and every so often during it), the throughput in documents
+and bytes per second is logged.
+
+Note: with more than one worker, the order in which documents are added (and hence
+their Lucene docIds) depends on thread timing.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.log4j.Logger;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.Term;
+
+class IndexingPipeline {
+
+	private static final Logger logger = Logger.getRootLogger();
+
+	// How many files may be waiting on the queue, per worker thread
+	private static final int QUEUED_PER_THREAD = 64;
+
+	// How long the walkers and workers wait on the queue before checking for errors
+	private static final long POLL_MILLIS = 100;
+
+	// Log progress every so many documents
+	private static final long PROGRESS_EVERY = 10000;
+
+	private final IndexWriter writer;
+	private final LDAHelper lda;
+	private final int numThreads;
+
+	private final BlockingQueue<File> queue;
+
+	// The directory being indexed (the paths of the documents are relative to it), and
+	// whether the documents replace those with the same path
+	private File root;
+	private boolean updating = false;
+
+	// The number of directories that have been submitted, but not yet walked
+	private final AtomicInteger pendingDirs = new AtomicInteger();
+	private final CountDownLatch walked = new CountDownLatch(1);
+
+	// The first error of any walker or worker
+	private final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+
+	private final AtomicLong numDocs = new AtomicLong();
+	private final AtomicLong numBytes = new AtomicLong();
+	private long start;
+
+	/**
+	 * @param writer The writer to add the documents to
+	 * @param lda The LDA index, for the topic fields of each document
+	 * @param numThreads The number of worker (and walker) threads; 0 means one per
+	 *                   available processor
+	 */
+	IndexingPipeline(IndexWriter writer, LDAHelper lda, int numThreads) {
+		this.writer = writer;
+		this.lda = lda;
+		this.numThreads = numThreads > 0 ? numThreads : Runtime.getRuntime().availableProcessors();
+		this.queue = new ArrayBlockingQueue<File>(this.numThreads * QUEUED_PER_THREAD);
+	}
+
+	/**
+	 * Indexes every (readable, non-hidden) file in the given directory and its
+	 * subdirectories.
+	 */
+	void run(File dir) throws IOException {
+		logger.info("Indexing " + dir + " on " + numThreads + " thread(s)");
+		start = System.nanoTime();
+		root = dir;
+
+		ExecutorService walkers = Executors.newFixedThreadPool(numThreads);
+		try {
+			walk(walkers, dir);
+			runWorkers(dir);
+		} finally {
+			walkers.shutdownNow();
+		}
+
+		logProgress("Indexed");
+	}
+
+	/**
+	 * Re-indexes the given files of the directory dir: the document of each file replaces
+	 * the one with the same path, if any. (A file that can no longer be read is removed.)
+	 */
+	void update(File dir, final List<File> files) throws IOException {
+		logger.info("Re-indexing " + files.size() + " file(s) of " + dir + " on " + numThreads + " thread(s)");
+		start = System.nanoTime();
+		root = dir;
+		updating = true;
+
+		// The list is the only "directory" to walk
+		pendingDirs.incrementAndGet();
+		ExecutorService feeder = Executors.newSingleThreadExecutor();
+		try {
+			feeder.execute(new Runnable() {
+				public void run() {
+					try {
+						for (int i = 0; i < files.size() && failure.get() == null; ++i){
+							put(files.get(i));
+						}
+					} catch (Throwable t) {
+						fail(t);
+					} finally {
+						if (pendingDirs.decrementAndGet() == 0){
+							walked.countDown();
+						}
+					}
+				}
+			});
+			runWorkers(dir);
+		} finally {
+			feeder.shutdownNow();
+		}
+
+		logProgress("Re-indexed");
+	}
+
+	// Runs the workers until the queue is drained, and rethrows the first error
+	private void runWorkers(File dir) throws IOException {
+		ExecutorService workers = Executors.newFixedThreadPool(numThreads);
+		try {
+			for (int i = 0; i < numThreads; ++i){
+				workers.execute(new Runnable() {
+					public void run() {
+						work();
+					}
+				});
+			}
+			workers.shutdown();
+			while (!workers.awaitTermination(POLL_MILLIS, TimeUnit.MILLISECONDS)){
+				// Keep waiting
+			}
+		} catch (InterruptedException e) {
+			fail(e);
+		} finally {
+			workers.shutdownNow();
+		}
+
+		Throwable t = failure.get();
+		if (t != null){
+			if (t instanceof IOException){
+				throw (IOException) t;
+			}
+			if (t instanceof RuntimeException){
+				throw (RuntimeException) t;
+			}
+			throw new IOException("Error indexing " + dir, t);
+		}
+	}
+
+	// Submits a task to list the given directory
+	private void walk(final ExecutorService walkers, final File dir) {
+		pendingDirs.incrementAndGet();
+		walkers.execute(new Runnable() {
+			public void run() {
+				try {
+					File[] files = dir.listFiles();
+					if (files == null){
+						throw new IOException("Cannot list directory " + dir);
+					}
+					for (int i = 0; i < files.length && failure.get() == null; i++) {
+						File f = files[i];
+						if (f.isDirectory()){
+							walk(walkers, f);
+						} else {
+							put(f);
+						}
+					}
+				} catch (Throwable t) {
+					fail(t);
+				} finally {
+					if (pendingDirs.decrementAndGet() == 0){
+						walked.countDown();
+					}
+				}
+			}
+		});
+	}
+
+	// Puts a file on the queue, waiting for room (unless something failed)
+	private void put(File f) throws InterruptedException {
+		while (failure.get() == null){
+			if (queue.offer(f, POLL_MILLIS, TimeUnit.MILLISECONDS)){
+				return;
+			}
+		}
+	}
+
+	// Takes files off the queue and indexes them, until the walk is done and the queue
+	// is empty (or something failed)
+	private void work() {
+		try {
+			while (failure.get() == null){
+				File f = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+				if (f == null){
+					// Once the walk is done, nothing more will be put on the queue
+					if (walked.getCount() == 0 && queue.isEmpty()){
+						return;
+					}
+					continue;
+				}
+
+				String path = SimpleIndexer.relativePath(root, f);
+				Document doc = SimpleIndexer.buildDocument(f, path, lda);
+				long t = System.nanoTime();
+				if (updating){
+					Term key = new Term(SimpleIndexer.PATH_FIELD, path);
+					if (doc == null){
+						writer.deleteDocuments(key);
+						Metrics.DELETED_DOCUMENTS.increment();
+						continue;
+					}
+					writer.updateDocument(key, doc);
+				} else if (doc == null){
+					continue;
+				} else {
+					writer.addDocument(doc);
+				}
+				Metrics.ADD_DOCUMENT.since(t);
+				Metrics.DOCUMENTS.increment();
+				Metrics.BYTES.add(f.length());
+
+				numBytes.addAndGet(f.length());
+				if (numDocs.incrementAndGet() % PROGRESS_EVERY == 0){
+					logProgress("Indexed so far:");
+				}
+			}
+		} catch (Throwable t) {
+			fail(t);
+		}
+	}
+
+	private void fail(Throwable t) {
+		if (failure.compareAndSet(null, t)){
+			logger.error("Indexing failed", t);
+		}
+	}
+
+	private void logProgress(String prefix) {
+		double seconds = (System.nanoTime() - start) / 1e9;
+		long docs = numDocs.get();
+		double mb = numBytes.get() / (double) (1 << 20);
+		logger.info(String.format("%s %d documents (%.1f MB) in %.3f s (%.1f docs/sec, %.1f MB/sec)",
+				prefix, docs, mb, seconds, docs / Math.max(seconds, 1e-9), mb / Math.max(seconds, 1e-9)));
+	}
+}
@@ -1,302 +1,687 @@
-/*
-####################################################################################
-Stephen W. Thomas
-sthomas@cs.queensu.ca
-Queen's University
-
-LDAHelper.java
-
-
-
-####################################################################################
-*/
-
-package ca.queensu.cs.sail.lucenelda;
-
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
-import java.io.IOException;
-import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.TreeSet;
-
-import org.apache.log4j.Logger;
-import org.apache.lucene.document.Document;
-import org.apache.lucene.search.IndexSearcher;
-import org.apache.lucene.search.ScoreDoc;
-import org.apache.lucene.search.TopDocs;
-
-
-
-class LDAHelper implements Serializable {
-
-	private static final long serialVersionUID = -5883161587870956703L;
-	private static final Logger logger = Logger.getRootLogger();
-	
-	// 'scens' (short for scenarios) holds all the LDAK objects: one for each K
-	// (The data structure is a simple class defined below)
-	public ArrayList<LDAK> scens;
-	
-	
-	// Used when LDA needs to be run on the given inDirName
-	LDAHelper(String inDirName) throws IOException{
-	}
-	
-	public void runLDA(int K, String inDirName){
-		LDAK ldak = new LDAK();
-		ldak.K = K;
-		
-		//TODO: run MALLET
-		//TODO: transform MALLET datastructures into LDAK datastructures
-	}
-
-	// Used when LDA has already been run by the user, and we just need to swallow up the data in the files
-	LDAHelper(){
-		scens = new ArrayList<LDAK>();
-	}
-	
-	// Add a scenario from disk
-	public void addScenario(int K, String inDirName) throws IOException{
-		
-		logger.info("Adding LDA scenario: K="+K+", dir="+inDirName);
-
-		// First, check that the four files are present:
-		if (! (new File((inDirName + "/vocab.dat")).exists())){
-	        System.err.println("Error: " + inDirName + "/vocab.dat does not exist.");
-	        return;
-	    }
-		if (! (new File((inDirName + "/files.dat")).exists())){
-	        System.err.println("Error: " + inDirName + "/files.dat does not exist.");
-	        return;
-	    }
-		if (! (new File((inDirName + "/theta.dat")).exists())){
-	        System.err.println("Error: " + inDirName + "/theta.dat does not exist.");
-	        return;
-	    }
-		if (! (new File((inDirName + "/words.dat")).exists())){
-	        System.err.println("Error: " + inDirName + "/words.dat does not exist.");
-	        return;
-	    }
-		
-		LDAK ldak = new LDAK();
-		ldak.K = K;
-		
-		// Read the term map
-		BufferedReader br = new BufferedReader(new FileReader(inDirName +  "/vocab.dat"));
-		int counter=0;
-		String line;
-		while ((line = br.readLine()) != null) {
-			ldak.termMap.put(line, counter);
-			++counter;
-		}
-		
-		// Read the file map
-		br = new BufferedReader(new FileReader(inDirName + "/files.dat"));
-		counter=0;
-		while ((line = br.readLine()) != null) {
-			String lineParts[] = line.split("\\s+");
-			ldak.fileMap.put(lineParts[1], counter);
-			++counter;
-		}
-		
-		// Set the constants, that will be used later.
-		ldak.D = ldak.fileMap.size();
-		ldak.W = ldak.termMap.size();
-		
-		// Read the theta and phi matrices
-		ldak.theta = readFileIntoMatrix(inDirName + "/theta.dat", ldak.D, ldak.K);
-		ldak.phi   = readFileIntoMatrix(inDirName + "/words.dat", ldak.K, ldak.W);
-		
-		scens.add(ldak);
-	}
-	
-	
-	/**
-	 * 
-	 * @param fileName
-	 * @param numRows
-	 * @param numCols
-	 * @return
-	 */
-	private float[][] readFileIntoMatrix(String fileName, int numRows, int numCols) {
-		BufferedReader br = null;
-		float[][] matrix = new float[numRows][numCols];
-
-		try {
-			br = new BufferedReader(new FileReader(fileName));
-			String line = null;
-			int x=0;
-			int y=0;
-			while ((line = br.readLine()) != null) {
-				String[] values = line.split("\\s+");
-				y = 0;
-
-                // Special case: MALLET returns nans, for example if there were more topics
-                // than documents. In this case, just make a row of 0s
-                if (values[0].equals("nan")){
-				    for (String str : values) {
-					    matrix[x][y++]=0;
-				    }
-                } else {
-                    // Normal case: everything went as expected (real valued numbers
-                    // in file)
-				    for (String str : values) {
-					    float str_double = Float.parseFloat(str);
-					    matrix[x][y++]=str_double;
-				    }
-                }
-				++x;
-			}
-		} catch (Exception e){
-			e.printStackTrace();
-			return null;
-		}
-
-		return matrix;
-	}
-
-
-	public String encodeTopics(int docId, int K) {
-		String out = "";
-		int idx = which(K);
-		
-		for (int i=0;i<scens.get(idx).K;++i){
-			out += ("," + scens.get(idx).theta[docId][i]);
-		}
-		return out;
-	}
-	
-	
-	// Given an K value, this function returns the index of this K in the scens ArrayList.
-	public int which(int k) {
-		
-		// Special case: if k==0, then the command line option was ommitted and we should return the
-		// index of the first k.
-		if (k==0){
-			return 1;
-		}
-		
-		for (int i = 0; i < scens.size(); ++i){
-			if (k == scens.get(i).K){
-				return i;
-			}
-		}
-		
-		// Default: just return the index of the first K.
-		return 1;
-	}
-
-
-	public float[] decodeTopics(String encodedTopicString, int K) {
-		String[] parts = encodedTopicString.split(",");
-		int idx = which(K);
-		float result[] = new float[scens.get(idx).K];
-		for (int i=1;i<parts.length;++i){
-			result[i-1] = Float.parseFloat(parts[i]);
-		}
-		return result;
-	}
-
-
-	public String encodeTopicsPayLoad(int docId, int K) {
-		String out = "";
-		int idx = which(K);
-		for (int i=0;i<scens.get(idx).K;++i){
-			if (scens.get(idx).theta[docId][i] > 0.05){
-				out += (" p" + i + "$"  + scens.get(idx).theta[docId][i]);
-			}
-		}
-		return out;
-	}
-	
-	
-	/**
-	 * 
-	 * @param searcher
-	 * @param hits
-	 * @param queryScore
-	 * @param K
-	 * @return
-	 * @throws IOException
-	 * @throws Exception
-	 */
-	public HashMap<String, Float> reRank(IndexSearcher searcher, TopDocs hits, float queryScore[], int K) throws IOException, Exception{
-		ScoreDoc[] scoreDocs = hits.scoreDocs;
-		
-		HashMap<String, Float> result = new HashMap<String, Float>();
-
-		for (int n = 0; n < scoreDocs.length; ++n) {
-			ScoreDoc sd = scoreDocs[n];
-			int docId = sd.doc;
-			Document d = searcher.doc(docId);
-			String fileName = d.get("file");
-			
-			String encodedTopicString = (d.get("topics" + K));
-			float sim = computeSimilarity(encodedTopicString, queryScore, K);
-
-			//System.out.printf("%3d %4.5f %d %s\n", n, sim, docId, fileName);
-			result.put(fileName, sim);
-		}
-		
-		return sortHashMap(result);
-	}
-	
-	
-	/**
-	 * 
-	 * @param input
-	 * @return
-	 */
-	private HashMap<String, Float> sortHashMap(HashMap<String, Float> input){
-	    Map<String, Float> tempMap = new HashMap<String, Float>();
-	    for (String wsState : input.keySet()){
-	        tempMap.put(wsState,input.get(wsState));
-	    }
-
-	    List<String> mapKeys = new ArrayList<String>(tempMap.keySet());
-	    List<Float> mapValues = new ArrayList<Float>(tempMap.values());
-	    HashMap<String, Float> sortedMap = new LinkedHashMap<String, Float>();
-	    TreeSet<Float> sortedSet = new TreeSet<Float>(mapValues);
-	    Object[] sortedArray = sortedSet.descendingSet().toArray();
-	    int size = sortedArray.length;
-	    for (int i=0; i<size; i++){
-	        sortedMap.put(mapKeys.get(mapValues.indexOf(sortedArray[i])), 
-	                      (Float)sortedArray[i]);
-	    }
-	    return sortedMap;
-	}
-	
-	/**
-	 * 
-	 * @param docId
-	 * @param queryScore
-	 * @return The conditional probability between the document and the query.
-	 */
-public float computeSimilarity(String encodedTopicString, float queryScore[], int K){
-	float result = 0;
-	float[] topicVector = decodeTopics(encodedTopicString, K);
-	for (int i=0; i<topicVector.length;++i){
-		result += topicVector[i]*queryScore[i];
-	}
-	return result;
-}
-
-
-// Data containers
-public class LDAK implements Serializable {
-	private static final long serialVersionUID = 2161745883533541761L;
-	public float phi[][]; // holds all the topics
-	public float theta[][]; // holds all the topic vectors
-	public int K = 0;   // The number of LDA topics
-	public int W = 0; // The number of terms
-	public int D = 0;   // number of documents
-	public HashMap<String, Integer> termMap = new HashMap<String, Integer>(); // Contains the ids of each term (for the topics)
-	public HashMap<String, Integer> fileMap = new HashMap<String, Integer>(); // Contains the file map
-}
-
-}
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+LDAHelper.java
+
+
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.log4j.Logger;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+
+
+
+class LDAHelper implements Serializable {
+
+	private static final long serialVersionUID = -5883161587870956703L;
+	private static final Logger logger = Logger.getRootLogger();
+	
+	// The format bytes of a dense and a sparse binary-encoded topic vector
+	private static final byte TOPIC_VECTOR_DENSE = 0;
+	private static final byte TOPIC_VECTOR_SPARSE = 1;
+	
+	// 'scens' (short for scenarios) holds all the LDAK objects: one for each K
+	// (The data structure is a simple class defined below)
+	public ArrayList<LDAK> scens;
+	
+	// If set, the theta of each scenario added from now on is stored in sparse form,
+	// keeping only the weights greater than thetaThreshold (see SparseTheta)
+	private transient boolean sparseTheta = false;
+	private transient float thetaThreshold = 0;
+	
+	// If set, the phi of each scenario added from now on is quantized (see QuantizedPhi)
+	private transient QuantizedPhi.Encoding phiEncoding = null;
+	
+	// Identifies the model and its version (see getVersion()); set by load()
+	private transient String version;
+	
+	// Numbers the models that were not loaded from a file
+	private static final AtomicInteger unsaved = new AtomicInteger();
+	
+	
+	// Used when LDA needs to be run on the given inDirName (see runLDA())
+	LDAHelper(String inDirName) throws IOException{
+		this();
+	}
+	
+	public void runLDA(int K, String inDirName) throws IOException{
+		runLDA(new GibbsLDATrainer(K), inDirName, 0);
+	}
+	
+	/**
+	 * Runs LDA on every file in the given directory tree, with the given (configured)
+	 * trainer, and adds the result as a scenario. Nothing is written to disk.
+	 * 
+	 * @param trainer
+	 * @param inDirName
+	 * @param numThreads The number of threads to read the files with; 0 means one per
+	 *                   available processor
+	 * @throws IOException
+	 */
+	void runLDA(GibbsLDATrainer trainer, String inDirName, int numThreads) throws IOException{
+		Corpus corpus = Corpus.read(new File(inDirName), numThreads);
+		try {
+			trainer.train(corpus);
+		} catch (InterruptedException e) {
+			throw new IOException("Interrupted while training LDA on " + inDirName, e);
+		}
+
+		LDAK ldak = new LDAK();
+		float[][] phi = trainer.getPhi();
+		ldak.K = phi.length;
+		if (phiEncoding != null){
+			ldak.phiStore = QuantizedPhi.quantize(phi, phiEncoding);
+		} else {
+			ldak.phi = phi;
+		}
+		if (sparseTheta){
+			ldak.thetaStore = SparseTheta.fromRows(trainer.getTheta(), ldak.K, thetaThreshold);
+		} else {
+			ldak.theta = trainer.getTheta();
+		}
+		ldak.W = corpus.numTerms();
+		ldak.D = corpus.numDocs();
+		ldak.termMap.putAll(corpus.termMap);
+		for (int d = 0; d < corpus.numDocs(); ++d){
+			if (ldak.fileMap.put(corpus.docNames.get(d), d) != null){
+				logger.warn("Duplicate file name " + corpus.docNames.get(d) + "; only the last one can be looked up");
+			}
+		}
+		scens.add(ldak);
+	}
+
+	// Used when LDA has already been run by the user, and we just need to swallow up the data in the files
+	LDAHelper(){
+		scens = new ArrayList<LDAK>();
+	}
+	
+	// Add a scenario from disk
+	public void addScenario(int K, String inDirName) throws IOException{
+		
+		logger.info("Adding LDA scenario: K="+K+", dir="+inDirName);
+
+		// First, check that the four files are present:
+		if (! (new File((inDirName + "/vocab.dat")).exists())){
+	        System.err.println("Error: " + inDirName + "/vocab.dat does not exist.");
+	        return;
+	    }
+		if (! (new File((inDirName + "/files.dat")).exists())){
+	        System.err.println("Error: " + inDirName + "/files.dat does not exist.");
+	        return;
+	    }
+		if (! (new File((inDirName + "/theta.dat")).exists())){
+	        System.err.println("Error: " + inDirName + "/theta.dat does not exist.");
+	        return;
+	    }
+		if (! (new File((inDirName + "/words.dat")).exists())){
+	        System.err.println("Error: " + inDirName + "/words.dat does not exist.");
+	        return;
+	    }
+		
+		LDAK ldak = new LDAK();
+		ldak.K = K;
+		
+		// Read the term map
+		String[] terms = new DatFileReader(new File(inDirName +  "/vocab.dat"), 0).readLines(Charset.defaultCharset());
+		for (int counter = 0; counter < terms.length; ++counter){
+			ldak.termMap.put(terms[counter], counter);
+		}
+		
+		// Read the file map
+		BufferedReader br = new BufferedReader(new FileReader(inDirName + "/files.dat"));
+		int counter=0;
+		String line;
+		while ((line = br.readLine()) != null) {
+			String lineParts[] = line.split("\\s+");
+			ldak.fileMap.put(lineParts[1], counter);
+			++counter;
+		}
+		br.close();
+		
+		// Set the constants, that will be used later.
+		ldak.D = ldak.fileMap.size();
+		ldak.W = ldak.termMap.size();
+		
+		// Read the theta and phi matrices
+		if (sparseTheta){
+			ldak.thetaStore = readFileIntoSparseTheta(inDirName + "/theta.dat", ldak.D, ldak.K, thetaThreshold);
+		} else {
+			ldak.theta = readFileIntoMatrix(inDirName + "/theta.dat", ldak.D, ldak.K);
+		}
+		if (phiEncoding != null){
+			ldak.phiStore = new DatFileReader(new File(inDirName + "/words.dat"), 0).readQuantizedPhi(ldak.K, ldak.W, phiEncoding);
+		} else {
+			ldak.phi = readFileIntoMatrix(inDirName + "/words.dat", ldak.K, ldak.W);
+		}
+		
+		scens.add(ldak);
+	}
+	
+	
+	/**
+	 * Folds in (see TopicInferencer) every file in the given directory tree that is not in
+	 * the file table of a scenario, adding its row to theta, so that every file can be
+	 * indexed even if LDA was not run on all of them. Only for scenarios held on the heap
+	 * (those added by addScenario() or runLDA()).
+	 * 
+	 * @param inDir
+	 * @param numThreads The number of threads to fold in with; 0 means one per available
+	 *                   processor
+	 * @throws IOException
+	 */
+	void foldInMissing(File inDir, int numThreads) throws IOException {
+		List<File> files = new ArrayList<File>();
+		Corpus.listFiles(inDir, files);
+		for (LDAK ldak : scens){
+			if (ldak.fileMap == null || (ldak.theta == null && ldak.getSparseTheta() == null)){
+				throw new IllegalStateException("Cannot add documents to a memory-mapped LDA scenario");
+			}
+			List<File> missing = new ArrayList<File>();
+			Set<String> names = new HashSet<String>();
+			for (File f : files){
+				if (ldak.getFileId(f.getName()) < 0 && names.add(f.getName())){
+					missing.add(f);
+				}
+			}
+			if (missing.isEmpty()){
+				continue;
+			}
+			logger.warn(missing.size() + " file(s) are not in the LDA output for K=" + ldak.K + "; folding them in");
+			
+			float[][] rows = new TopicInferencer(ldak, 1).infer(missing, numThreads);
+			if (ldak.getSparseTheta() != null){
+				ldak.thetaStore = ldak.getSparseTheta().withRows(rows);
+			} else {
+				float[][] theta = Arrays.copyOf(ldak.theta, ldak.D + rows.length);
+				System.arraycopy(rows, 0, theta, ldak.D, rows.length);
+				ldak.theta = theta;
+			}
+			for (int i = 0; i < rows.length; ++i){
+				ldak.fileMap.put(missing.get(i).getName(), ldak.D + i);
+			}
+			ldak.D += rows.length;
+		}
+	}
+	
+	
+	/**
+	 * Opens an LDA index that was written by save(). The model is memory-mapped and read in
+	 * place (see LDAModelFile), and its delta, if it has one, is applied (see ModelDelta).
+	 * Indexes written by older versions, which serialized the whole LDAHelper object, are
+	 * still read, but are deserialized onto the heap.
+	 * 
+	 * @param fileName
+	 * @return
+	 * @throws IOException
+	 */
+	public static LDAHelper load(String fileName) throws IOException {
+		long start = System.nanoTime();
+		File file = new File(fileName);
+		try {
+			if (LDAModelFile.isModelFile(file)){
+				LDAHelper lda = LDAModelFile.read(file);
+				ModelDelta[] deltas = ModelDelta.read(file);
+				lda.version = file.getAbsolutePath() + " crc=" + Integer.toHexString(LDAModelFile.headerCrc(file));
+				if (deltas != null){
+					ModelDelta.applyTo(lda, deltas);
+					if (deltas.length > 0){
+						lda.version += " delta=" + Long.toHexString(deltas[0].crc);
+					}
+				}
+				return lda;
+			}
+
+			logger.info("Reading legacy serialized LDA index " + fileName);
+			ObjectInputStream in = new ObjectInputStream(new FileInputStream(file));
+			try {
+				LDAHelper lda = (LDAHelper) in.readObject();
+				lda.version = file.getAbsolutePath() + " length=" + file.length() + " modified=" + file.lastModified();
+				return lda;
+			} catch (ClassNotFoundException e) {
+				throw new IOException(fileName + " is not an LDA index", e);
+			} finally {
+				in.close();
+			}
+		} finally {
+			Metrics.LOAD_MODEL.since(start);
+		}
+	}
+	
+	
+	/**
+	 * Returns a string that identifies this model and its version, for the keys of caches
+	 * (see LDAQueryEngine.queryVector()): the path of the file it was loaded from, and the
+	 * checksums of the file's header and delta (or, for a legacy file, its length and
+	 * modification time), or, for a model that was not loaded, a number unique to it.
+	 */
+	synchronized String getVersion() {
+		if (version == null){
+			version = "unsaved#" + unsaved.incrementAndGet();
+		}
+		return version;
+	}
+	
+	
+	/**
+	 * Writes all the scenarios to disk, in the format read by load().
+	 * 
+	 * @param fileName
+	 * @throws IOException
+	 */
+	public void save(String fileName) throws IOException {
+		LDAModelFile.write(this, new File(fileName));
+	}
+	
+	
+	/**
+	 * Reads a white-space delimited matrix file (see DatFileReader).
+	 * 
+	 * @param fileName
+	 * @param numRows
+	 * @param numCols
+	 * @return
+	 * @throws IOException if the file cannot be read, or is malformed
+	 */
+	float[][] readFileIntoMatrix(String fileName, int numRows, int numCols) throws IOException {
+		long start = System.nanoTime();
+		float[][] matrix = new DatFileReader(new File(fileName), 0).readMatrix(numRows, numCols);
+		double seconds = (System.nanoTime() - start) / 1e9;
+		logger.info(String.format("Read %s (%d x %d) in %.3f s (%.1f MB/s)", fileName, numRows, numCols,
+				seconds, new File(fileName).length() / (double) (1 << 20) / Math.max(seconds, 1e-9)));
+		return matrix;
+	}
+
+
+	/**
+	 * Reads a matrix file of topic memberships into sparse form, keeping the weights
+	 * greater than threshold (see DatFileReader.readSparseTheta()).
+	 */
+	SparseTheta readFileIntoSparseTheta(String fileName, int numRows, int numCols, float threshold) throws IOException {
+		long start = System.nanoTime();
+		SparseTheta theta = new DatFileReader(new File(fileName), 0).readSparseTheta(numRows, numCols, threshold);
+		double seconds = (System.nanoTime() - start) / 1e9;
+		logger.info(String.format("Read %s (%d x %d, sparse) in %.3f s (%.1f MB/s)", fileName, numRows, numCols,
+				seconds, new File(fileName).length() / (double) (1 << 20) / Math.max(seconds, 1e-9)));
+		return theta;
+	}
+
+
+	/**
+	 * Stores the theta of every scenario that is added after this call (by addScenario()
+	 * or runLDA()) in sparse form, keeping only the weights greater than threshold (see
+	 * SparseTheta). With a threshold of 0, only exact zeros are dropped. Scenarios with a
+	 * sparse theta are also indexed and saved in sparse form.
+	 * 
+	 * @param threshold
+	 */
+	public void setThetaThreshold(float threshold) {
+		sparseTheta = true;
+		thetaThreshold = threshold;
+	}
+
+
+	/**
+	 * Quantizes the phi of every scenario that is added after this call (by addScenario()
+	 * or runLDA()) with the given encoding (see QuantizedPhi); null means full precision.
+	 * Scenarios with a quantized phi are also saved, and queried, in quantized form.
+	 * 
+	 * @param encoding
+	 */
+	public void setPhiEncoding(QuantizedPhi.Encoding encoding) {
+		phiEncoding = encoding;
+	}
+
+
+	/**
+	 * Returns a copy of this LDAHelper whose scenarios share everything with this one,
+	 * except that the phi of the given scenario is quantized with the given encoding.
+	 */
+	LDAHelper withQuantizedPhi(int K, QuantizedPhi.Encoding encoding) {
+		LDAHelper copy = new LDAHelper();
+		copy.version = getVersion() + " phi" + K + "=" + encoding;
+		LDAK target = scens.get(which(K));
+		for (LDAK ldak : scens){
+			LDAK q = copy.new LDAK();
+			q.K = ldak.K;
+			q.W = ldak.W;
+			q.D = ldak.D;
+			q.theta = ldak.theta;
+			q.thetaStore = ldak.thetaStore;
+			q.termMap = ldak.termMap;
+			q.fileMap = ldak.fileMap;
+			q.termTable = ldak.termTable;
+			q.fileTable = ldak.fileTable;
+			q.delta = ldak.delta;
+			q.termTopicEpsilon = ldak.termTopicEpsilon;
+			if (ldak == target){
+				q.phiStore = QuantizedPhi.quantize(new LDAModelFile.PhiView(ldak), encoding);
+			} else {
+				q.phi = ldak.phi;
+				q.phiStore = ldak.phiStore;
+			}
+			copy.scens.add(q);
+		}
+		return copy;
+	}
+
+
+	/**
+	 * Sets the epsilon below which weights of phi are pruned from the term-topic index
+	 * of every scenario (see TermTopicIndex). Must be called before the first query.
+	 * 
+	 * @param epsilon
+	 */
+	public void setTermTopicEpsilon(float epsilon) {
+		for (LDAK ldak : scens){
+			ldak.termTopicEpsilon = epsilon;
+		}
+	}
+
+
+	public String encodeTopics(int docId, int K) {
+		String out = "";
+		int idx = which(K);
+		
+		for (int i=0;i<scens.get(idx).K;++i){
+			out += ("," + scens.get(idx).getTheta(docId, i));
+		}
+		return out;
+	}
+	
+	
+	/**
+	 * Encodes the topic memberships of a document as a compact binary value, for the
+	 * "topicvector"+K field (see TopicVectorColumn): a format byte, followed by either
+	 * (0 = dense) the row of theta as K little-endian floats, or (1 = sparse, when the
+	 * scenario's theta is sparse) the number of entries n as an int, and then n
+	 * (unsigned short topic, float weight) pairs, in order of topic.
+	 * 
+	 * @param docId
+	 * @param K
+	 * @return
+	 */
+	public byte[] encodeTopicVector(int docId, int K) {
+		LDAK ldak = scens.get(which(K));
+		SparseTheta sparse = ldak.getSparseTheta();
+		if (sparse != null){
+			int start = sparse.offsets[docId];
+			int end = sparse.offsets[docId + 1];
+			ByteBuffer buf = ByteBuffer.allocate(5 + 6 * (end - start)).order(ByteOrder.LITTLE_ENDIAN);
+			buf.put(TOPIC_VECTOR_SPARSE);
+			buf.putInt(end - start);
+			for (int i = start; i < end; ++i){
+				buf.putShort(sparse.topics[i]);
+				buf.putFloat(sparse.weights[i]);
+			}
+			return buf.array();
+		}
+		ByteBuffer buf = ByteBuffer.allocate(1 + 4 * ldak.K).order(ByteOrder.LITTLE_ENDIAN);
+		buf.put(TOPIC_VECTOR_DENSE);
+		for (int i=0;i<ldak.K;++i){
+			buf.putFloat(ldak.getTheta(docId, i));
+		}
+		return buf.array();
+	}
+	
+	
+	// True if the given value was written by encodeTopicVector() in sparse form
+	static boolean isSparseTopicVector(byte[] encoded) {
+		return encoded.length > 0 && encoded[0] == TOPIC_VECTOR_SPARSE;
+	}
+	
+	
+	/**
+	 * Decodes a value written by encodeTopicVector() into dst[offset .. offset+K). (The
+	 * topics that are not in a sparse value are left as they are.)
+	 */
+	static void decodeTopicVector(byte[] encoded, float[] dst, int offset, int K) {
+		ByteBuffer buf = ByteBuffer.wrap(encoded).order(ByteOrder.LITTLE_ENDIAN);
+		byte format = buf.get();
+		if (format == TOPIC_VECTOR_SPARSE){
+			int n = buf.getInt();
+			for (int i=0;i<n;++i){
+				int k = buf.getShort() & 0xffff;
+				float weight = buf.getFloat();
+				if (k < K){
+					dst[offset + k] = weight;
+				}
+			}
+			return;
+		}
+		if (format != TOPIC_VECTOR_DENSE){
+			throw new IllegalArgumentException("Unknown topic vector format: " + format);
+		}
+		int n = Math.min(K, buf.remaining() / 4);
+		for (int i=0;i<n;++i){
+			dst[offset + i] = buf.getFloat();
+		}
+	}
+	
+	
+	/**
+	 * Decodes a sparse value written by encodeTopicVector() by appending its entries to
+	 * the given topics and weights, from position pos. Returns the new position.
+	 */
+	static int decodeSparseTopicVector(byte[] encoded, short[] topics, float[] weights, int pos) {
+		ByteBuffer buf = ByteBuffer.wrap(encoded).order(ByteOrder.LITTLE_ENDIAN);
+		buf.get();
+		int n = buf.getInt();
+		for (int i=0;i<n;++i){
+			topics[pos] = buf.getShort();
+			weights[pos] = buf.getFloat();
+			++pos;
+		}
+		return pos;
+	}
+	
+	
+	// The number of entries in a sparse value written by encodeTopicVector()
+	static int sparseTopicVectorSize(byte[] encoded) {
+		return ByteBuffer.wrap(encoded).order(ByteOrder.LITTLE_ENDIAN).getInt(1);
+	}
+	
+	
+	// Given an K value, this function returns the index of this K in the scens ArrayList.
+	// Throws an IllegalArgumentException if there is no such K, or no scenario at all.
+	public int which(int k) {
+		if (scens.isEmpty()){
+			throw new IllegalArgumentException("the LDA index has no configurations");
+		}
+		
+		// Special case: if k==0, then the command line option was ommitted and we should return the
+		// index of the first k.
+		if (k==0){
+			return 0;
+		}
+		
+		for (int i = 0; i < scens.size(); ++i){
+			if (k == scens.get(i).K){
+				return i;
+			}
+		}
+		throw new IllegalArgumentException("the LDA index has no configuration with K=" + k);
+	}
+
+
+	public float[] decodeTopics(String encodedTopicString, int K) {
+		String[] parts = encodedTopicString.split(",");
+		int idx = which(K);
+		float result[] = new float[scens.get(idx).K];
+		for (int i=1;i<parts.length;++i){
+			result[i-1] = Float.parseFloat(parts[i]);
+		}
+		return result;
+	}
+
+
+	public String encodeTopicsPayLoad(int docId, int K) {
+		String out = "";
+		int idx = which(K);
+		SparseTheta sparse = scens.get(idx).getSparseTheta();
+		if (sparse != null){
+			for (int i = sparse.offsets[docId]; i < sparse.offsets[docId + 1]; ++i){
+				if (sparse.weights[i] > 0.05){
+					out += (" p" + (sparse.topics[i] & 0xffff) + "$"  + sparse.weights[i]);
+				}
+			}
+			return out;
+		}
+		for (int i=0;i<scens.get(idx).K;++i){
+			float weight = scens.get(idx).getTheta(docId, i);
+			if (weight > 0.05){
+				out += (" p" + i + "$"  + weight);
+			}
+		}
+		return out;
+	}
+	
+	
+	/**
+	 * Re-scores the given hits by conditional probability, and keeps the best of them in
+	 * the given ranker (which is reset, and sorted when this returns).
+	 * 
+	 * @param searcher
+	 * @param hits
+	 * @param queryScore
+	 * @param K
+	 * @param ranker
+	 * @throws IOException
+	 */
+	public void reRank(IndexSearcher searcher, TopDocs hits, float queryScore[], int K, TopKRanker ranker) throws IOException{
+		ScoreDoc[] scoreDocs = hits.scoreDocs;
+		TopicVectorColumn column = TopicVectorColumn.get(searcher.getIndexReader(), K);
+
+		ranker.reset(scoreDocs.length);
+		for (int n = 0; n < scoreDocs.length; ++n) {
+			int docId = scoreDocs[n].doc;
+			ranker.offer(docId, column.dot(docId, queryScore));
+		}
+		ranker.sort();
+	}
+	
+	
+	/**
+	 * Computes the similarity from a topic string written by encodeTopics(). (The query
+	 * path uses TopicVectorColumn.dot() instead, which needs no parsing.)
+	 * 
+	 * @param docId
+	 * @param queryScore
+	 * @return The conditional probability between the document and the query.
+	 */
+public float computeSimilarity(String encodedTopicString, float queryScore[], int K){
+	float result = 0;
+	float[] topicVector = decodeTopics(encodedTopicString, K);
+	for (int i=0; i<topicVector.length;++i){
+		result += topicVector[i]*queryScore[i];
+	}
+	return result;
+}
+
+
+// Data containers
+public class LDAK implements Serializable {
+	private static final long serialVersionUID = 2161745883533541761L;
+	public float phi[][]; // holds all the topics
+	public float theta[][]; // holds all the topic vectors
+	public int K = 0;   // The number of LDA topics
+	public int W = 0; // The number of terms
+	public int D = 0;   // number of documents
+	public HashMap<String, Integer> termMap = new HashMap<String, Integer>(); // Contains the ids of each term (for the topics)
+	public HashMap<String, Integer> fileMap = new HashMap<String, Integer>(); // Contains the file map
+
+	// When the model was memory-mapped by LDAModelFile, theta, phi, termMap and fileMap are
+	// null, and these are read in place instead. (theta is also null when it is held in
+	// sparse form; thetaStore is then a SparseTheta.)
+	transient FloatMatrix thetaStore;
+	transient FloatMatrix phiStore;
+	transient LDAModelFile.StringTable termTable;
+	transient LDAModelFile.StringTable fileTable;
+
+	// The delta that was applied to the memory-mapped model, if any (see ModelDelta)
+	transient ModelDelta delta;
+
+	// Weights of phi at or below this are left out of the term-topic index
+	transient float termTopicEpsilon = 0;
+	private transient TermTopicIndex termTopics;
+
+	// The word-major, sparse copy of phi, built the first time it is needed
+	synchronized TermTopicIndex getTermTopics(){
+		if (termTopics == null){
+			termTopics = TermTopicIndex.build(this, termTopicEpsilon);
+		}
+		return termTopics;
+	}
+
+	// Adds the membership of term w in every topic to scores (of length K)
+	public void addTermTopics(int w, float[] scores){
+		getTermTopics().accumulate(w, scores);
+	}
+
+	// The topic membership of document docId in topic k
+	public float getTheta(int docId, int k){
+		return theta != null ? theta[docId][k] : thetaStore.get(docId, k);
+	}
+
+	// The sparse form of theta, or null if theta is dense
+	SparseTheta getSparseTheta(){
+		return thetaStore instanceof SparseTheta ? (SparseTheta) thetaStore : null;
+	}
+
+	// The membership of term w in topic k
+	public float getPhi(int k, int w){
+		return phi != null ? phi[k][w] : phiStore.get(k, w);
+	}
+
+	// The id of the given term, or -1 if it is not in the vocabulary
+	public int getTermId(String term){
+		if (termMap != null){
+			Integer id = termMap.get(term);
+			return id == null ? -1 : id;
+		}
+		return termTable.get(term);
+	}
+
+	// The id (row in theta) of the given file, or -1 if LDA was not run on it
+	public int getFileId(String fileName){
+		if (delta != null){
+			Integer id = delta.getFileId(fileName);
+			if (id != null){
+				return id;
+			}
+		}
+		if (fileMap != null){
+			Integer id = fileMap.get(fileName);
+			return id == null ? -1 : id;
+		}
+		return fileTable.get(fileName);
+	}
+}
+
+}
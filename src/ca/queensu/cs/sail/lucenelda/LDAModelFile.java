@@ -0,0 +1,743 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+LDAModelFile.java
+
+Reads and writes the "LDA index": every scenario (LDAK) held by an LDAHelper, in a
+versioned, checksummed binary format. This replaces the Java-serialized LDAHelper object
+that used to be written by IndexDirectory.
+
+The reader memory-maps the file and reads the theta and phi rows in place, so opening a
+model is nearly instant regardless of its size, nothing is copied onto the heap, and the
+OS page cache is shared between processes that query the same model.
+
+All values are little-endian. The layout is:
+
+  header      "LDAM", int version, int numScenarios, int reserved
+  directory   one 64-byte entry per scenario:
+                int K, int W, int D, int flags,
+                long vocabOffset, long filesOffset, long thetaOffset, long phiOffset,
+                int vocabCrc, int filesCrc, int thetaCrc, int phiCrc
+  headerCrc   CRC32 of the header and directory
+  blocks      for each scenario: the vocabulary table, the file table, theta (D x K
+              floats, row-major) and phi (K x W floats, row-major). Each block starts
+              on a 64-byte boundary.
+
+If bit 0 of a scenario's flags (FLAG_SPARSE_THETA) is set, its theta block is instead in
+compressed-sparse-row form (see SparseTheta):
+
+  int nnz, float threshold, int[D + 1] offsets, short[nnz] topics (padded to a multiple
+  of 4 bytes), float[nnz] weights
+
+where threshold is the one the weights were kept with (see SparseTheta), which updates
+reuse (files written before it was recorded hold 0).
+
+A sparse theta is small, so it is copied onto the heap when the file is opened, rather
+than read in place.
+
+If bit 1 (FLAG_PHI_HALF) or bit 2 (FLAG_PHI_BYTE) is set, the phi block is quantized (see
+QuantizedPhi), and is read in place like a float block:
+
+  half        short[K x W] half-precision floats, row-major
+  byte        float[K] scales, byte[K x W] unsigned codes, row-major
+
+Version 1 files (which had no flags) are still read.
+
+A table (vocabulary or file names) is sorted by the UTF-8 bytes of its keys, so that a
+key can be looked up in place with a binary search:
+
+  int count, int dataLength, int[count] ids, int[count + 1] dataOffsets, byte[dataLength]
+
+The header, directory and tables are always verified when the file is opened. Verifying
+the (potentially huge) theta and phi blocks means reading them in full, so that is only
+done on request (see verify()).
+
+Updates to an index do not rewrite its model, but write their changes to theta to a delta
+next to it, which is applied when the model is opened (see ModelDelta). Writing a model
+deletes its delta.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.apache.log4j.Logger;
+
+class LDAModelFile {
+
+	private static final Logger logger = Logger.getRootLogger();
+
+	static final byte[] MAGIC = {'L', 'D', 'A', 'M'};
+	static final int VERSION = 2;
+
+	// The oldest version that can still be read
+	private static final int MIN_VERSION = 1;
+
+	// Flag bits of a directory entry
+	static final int FLAG_SPARSE_THETA = 1;
+	static final int FLAG_PHI_HALF = 2;
+	static final int FLAG_PHI_BYTE = 4;
+
+	private static final int HEADER_BYTES = 16;
+	private static final int ENTRY_BYTES = 64;
+	private static final int ALIGNMENT = 64;
+	private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	private LDAModelFile() {
+	}
+
+	/**
+	 * Returns true if the given file starts with the magic bytes of this format.
+	 */
+	static boolean isModelFile(File file) throws IOException {
+		if (file.length() < MAGIC.length){
+			return false;
+		}
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			byte[] magic = new byte[MAGIC.length];
+			raf.readFully(magic);
+			return Arrays.equals(magic, MAGIC);
+		} finally {
+			raf.close();
+		}
+	}
+
+
+	/**
+	 * Writes every scenario of the given LDAHelper to the given file. The model is written
+	 * to a temporary file, which then replaces the given one, so that a reader (which may
+	 * have the old file mapped, or may be the source of the scenarios being written)
+	 * never sees a partly written model. The file's directory is created if need be, and
+	 * any delta of the old model (see ModelDelta) is deleted.
+	 */
+	static void write(LDAHelper lda, File file) throws IOException {
+		int numScens = lda.scens.size();
+		long[][] offsets = new long[numScens][4];
+		int[][] crcs = new int[numScens][4];
+
+		File dir = file.getAbsoluteFile().getParentFile();
+		if (dir != null && !dir.exists()){
+			dir.mkdirs();
+		}
+		File tmp = new File(file.getPath() + ".tmp");
+		RandomAccessFile raf = new RandomAccessFile(tmp, "rw");
+		try {
+			raf.setLength(0);
+			FileChannel channel = raf.getChannel();
+
+			// Write the blocks first, leaving room for the header; the header is
+			// written last, once all the offsets and checksums are known.
+			long pos = align(HEADER_BYTES + (long) numScens * ENTRY_BYTES + 4);
+			for (int i = 0; i < numScens; ++i){
+				LDAHelper.LDAK ldak = lda.scens.get(i);
+
+				offsets[i][0] = pos;
+				pos = align(writeTable(channel, pos, sortedEntries(ldak.termTable, ldak.termMap), crcs[i], 0));
+
+				offsets[i][1] = pos;
+				pos = align(writeTable(channel, pos, fileEntries(ldak), crcs[i], 1));
+
+				offsets[i][2] = pos;
+				if (ldak.getSparseTheta() != null){
+					pos = align(writeSparseTheta(channel, pos, ldak.getSparseTheta(), crcs[i], 2));
+				} else {
+					pos = align(writeMatrix(channel, pos, new ThetaView(ldak), crcs[i], 2));
+				}
+
+				offsets[i][3] = pos;
+				if (ldak.phiStore instanceof QuantizedPhi){
+					pos = align(writeQuantizedPhi(channel, pos, (QuantizedPhi) ldak.phiStore, crcs[i], 3));
+				} else {
+					pos = align(writeMatrix(channel, pos, new PhiView(ldak), crcs[i], 3));
+				}
+			}
+
+			ByteBuffer header = newBuffer(HEADER_BYTES + numScens * ENTRY_BYTES + 4);
+			header.put(MAGIC);
+			header.putInt(VERSION);
+			header.putInt(numScens);
+			header.putInt(0);
+			for (int i = 0; i < numScens; ++i){
+				LDAHelper.LDAK ldak = lda.scens.get(i);
+				header.putInt(ldak.K);
+				header.putInt(ldak.W);
+				header.putInt(ldak.D);
+				header.putInt(flags(ldak));
+				for (int j = 0; j < 4; ++j){
+					header.putLong(offsets[i][j]);
+				}
+				for (int j = 0; j < 4; ++j){
+					header.putInt(crcs[i][j]);
+				}
+			}
+			CRC32 crc = new CRC32();
+			crc.update(header.array(), 0, header.position());
+			header.putInt((int) crc.getValue());
+			header.flip();
+			writeFully(channel, header, 0);
+			raf.setLength(pos);
+		} finally {
+			raf.close();
+		}
+		if (!tmp.renameTo(file) && !(file.delete() && tmp.renameTo(file))){
+			throw new IOException("Cannot replace " + file + " with " + tmp);
+		}
+		ModelDelta.delete(file);
+		logger.info("Wrote LDA model with " + numScens + " scenario(s) to " + file);
+	}
+
+
+	/**
+	 * Opens the given model file and maps it into memory. The header, directory and
+	 * tables are verified; the theta and phi blocks are not (see verify()).
+	 */
+	static LDAHelper read(File file) throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			FileChannel channel = raf.getChannel();
+			ByteBuffer header = readHeader(channel, file);
+			int numScens = header.getInt(8);
+
+			LDAHelper lda = new LDAHelper();
+			for (int i = 0; i < numScens; ++i){
+				int entry = HEADER_BYTES + i * ENTRY_BYTES;
+				LDAHelper.LDAK ldak = lda.new LDAK();
+				ldak.K = header.getInt(entry);
+				ldak.W = header.getInt(entry + 4);
+				ldak.D = header.getInt(entry + 8);
+				int flags = header.getInt(entry + 12);
+
+				ldak.termTable = new StringTable(channel, header.getLong(entry + 16));
+				ldak.fileTable = new StringTable(channel, header.getLong(entry + 24));
+				checkCrc(ldak.termTable.buffer, header.getInt(entry + 48), file, "vocabulary of K=" + ldak.K);
+				checkCrc(ldak.fileTable.buffer, header.getInt(entry + 52), file, "file table of K=" + ldak.K);
+
+				if ((flags & FLAG_SPARSE_THETA) != 0){
+					ldak.thetaStore = readSparseTheta(channel, header.getLong(entry + 32), ldak.D, ldak.K, file);
+				} else {
+					ldak.thetaStore = new MappedFloatMatrix(channel, header.getLong(entry + 32), ldak.D, ldak.K);
+				}
+				QuantizedPhi.Encoding phiEncoding = phiEncoding(flags);
+				if (phiEncoding != null){
+					ldak.phiStore = QuantizedPhi.map(channel, header.getLong(entry + 40), phiEncoding, ldak.K, ldak.W);
+				} else {
+					ldak.phiStore = new MappedFloatMatrix(channel, header.getLong(entry + 40), ldak.K, ldak.W);
+				}
+
+				// The term and file maps are not needed: lookups go through the tables
+				ldak.termMap = null;
+				ldak.fileMap = null;
+				lda.scens.add(ldak);
+			}
+			logger.info("Mapped LDA model with " + numScens + " scenario(s) from " + file);
+			return lda;
+		} finally {
+			raf.close();
+		}
+	}
+
+
+	/**
+	 * Reads the theta and phi blocks of every scenario in full and checks them against the
+	 * checksums in the directory. Throws an IOException on the first mismatch.
+	 */
+	static void verify(File file) throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			FileChannel channel = raf.getChannel();
+			ByteBuffer header = readHeader(channel, file);
+			int numScens = header.getInt(8);
+			for (int i = 0; i < numScens; ++i){
+				int entry = HEADER_BYTES + i * ENTRY_BYTES;
+				int K = header.getInt(entry);
+				int W = header.getInt(entry + 4);
+				int D = header.getInt(entry + 8);
+				int flags = header.getInt(entry + 12);
+				long thetaOffset = header.getLong(entry + 32);
+				long thetaBytes = 4L * D * K;
+				if ((flags & FLAG_SPARSE_THETA) != 0){
+					ByteBuffer counts = newBuffer(8);
+					readFully(channel, counts, thetaOffset, file);
+					thetaBytes = sparseThetaBytes(D, counts.getInt(0));
+				}
+				checkCrc(channel, thetaOffset, thetaBytes, header.getInt(entry + 56), file, "theta of K=" + K);
+				QuantizedPhi.Encoding phiEncoding = phiEncoding(flags);
+				long phiBytes = phiEncoding != null ? QuantizedPhi.blockBytes(phiEncoding, K, W) : 4L * K * W;
+				checkCrc(channel, header.getLong(entry + 40), phiBytes, header.getInt(entry + 60), file, "phi of K=" + K);
+			}
+		} finally {
+			raf.close();
+		}
+	}
+
+
+	// The flags of a scenario's directory entry
+	private static int flags(LDAHelper.LDAK ldak) {
+		int flags = 0;
+		if (ldak.getSparseTheta() != null){
+			flags |= FLAG_SPARSE_THETA;
+		}
+		if (ldak.phiStore instanceof QuantizedPhi){
+			flags |= ((QuantizedPhi) ldak.phiStore).encoding == QuantizedPhi.Encoding.HALF ? FLAG_PHI_HALF : FLAG_PHI_BYTE;
+		}
+		return flags;
+	}
+
+
+	// The encoding of phi given by the flags of a directory entry, or null if it is floats
+	private static QuantizedPhi.Encoding phiEncoding(int flags) {
+		if ((flags & FLAG_PHI_HALF) != 0){
+			return QuantizedPhi.Encoding.HALF;
+		}
+		if ((flags & FLAG_PHI_BYTE) != 0){
+			return QuantizedPhi.Encoding.BYTE;
+		}
+		return null;
+	}
+
+
+	private static ByteBuffer readHeader(FileChannel channel, File file) throws IOException {
+		ByteBuffer fixed = newBuffer(HEADER_BYTES);
+		readFully(channel, fixed, 0, file);
+		byte[] magic = new byte[MAGIC.length];
+		fixed.get(magic);
+		if (!Arrays.equals(magic, MAGIC)){
+			throw new IOException(file + " is not an LDA model file");
+		}
+		int version = fixed.getInt();
+		if (version < MIN_VERSION || version > VERSION){
+			throw new IOException(file + " has unsupported LDA model version " + version
+					+ " (expected " + MIN_VERSION + " to " + VERSION + ")");
+		}
+		int numScens = fixed.getInt();
+		if (numScens < 0){
+			throw new IOException(file + " is corrupt: negative scenario count");
+		}
+
+		ByteBuffer header = newBuffer(HEADER_BYTES + numScens * ENTRY_BYTES + 4);
+		readFully(channel, header, 0, file);
+		CRC32 crc = new CRC32();
+		crc.update(header.array(), 0, header.capacity() - 4);
+		if ((int) crc.getValue() != header.getInt(header.capacity() - 4)){
+			throw new IOException(file + " is corrupt: header checksum mismatch");
+		}
+		return header;
+	}
+
+
+	/**
+	 * Returns the checksum of the header and directory of the given model file, which
+	 * identifies the version of the model (see ModelDelta).
+	 */
+	static int headerCrc(File file) throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			ByteBuffer header = readHeader(raf.getChannel(), file);
+			return header.getInt(header.capacity() - 4);
+		} finally {
+			raf.close();
+		}
+	}
+
+
+	// The (name, id) pairs of a scenario's file table, sorted, with its delta (if it has
+	// one) applied
+	private static List<Object[]> fileEntries(LDAHelper.LDAK ldak) {
+		if (ldak.delta == null){
+			return sortedEntries(ldak.fileTable, ldak.fileMap);
+		}
+		Map<String, Integer> map = new HashMap<String, Integer>();
+		for (Object[] e : sortedEntries(ldak.fileTable, ldak.fileMap)){
+			String fileName = new String((byte[]) e[0], UTF8);
+			Integer id = ldak.delta.getFileId(fileName);
+			map.put(fileName, id != null ? id : (Integer) e[1]);
+		}
+		for (Map.Entry<String, Integer> e : ldak.delta.fileIds().entrySet()){
+			map.put(e.getKey(), e.getValue());
+		}
+		map.values().removeAll(Collections.singleton(-1));
+		return sortedEntries(null, map);
+	}
+
+
+	// Collects the (key, id) pairs of a table, either from an existing mapped table or
+	// from a HashMap, sorted by the UTF-8 bytes of the keys.
+	private static List<Object[]> sortedEntries(StringTable table, Map<String, Integer> map) {
+		List<Object[]> entries = new ArrayList<Object[]>();
+		if (table != null){
+			for (int i = 0; i < table.size(); ++i){
+				entries.add(new Object[] {table.keyBytes(i), table.id(i)});
+			}
+			// Already sorted
+			return entries;
+		}
+		for (Map.Entry<String, Integer> e : map.entrySet()){
+			entries.add(new Object[] {e.getKey().getBytes(UTF8), e.getValue()});
+		}
+		java.util.Collections.sort(entries, new Comparator<Object[]>() {
+			public int compare(Object[] a, Object[] b) {
+				return compareBytes((byte[]) a[0], (byte[]) b[0]);
+			}
+		});
+		return entries;
+	}
+
+
+	private static long writeTable(FileChannel channel, long pos, List<Object[]> entries,
+			int[] crcs, int crcIdx) throws IOException {
+		int count = entries.size();
+		int dataLength = 0;
+		for (Object[] e : entries){
+			dataLength += ((byte[]) e[0]).length;
+		}
+
+		ByteBuffer buf = newBuffer(8 + 4 * count + 4 * (count + 1) + dataLength);
+		buf.putInt(count);
+		buf.putInt(dataLength);
+		for (Object[] e : entries){
+			buf.putInt((Integer) e[1]);
+		}
+		int offset = 0;
+		for (Object[] e : entries){
+			buf.putInt(offset);
+			offset += ((byte[]) e[0]).length;
+		}
+		buf.putInt(offset);
+		for (Object[] e : entries){
+			buf.put((byte[]) e[0]);
+		}
+
+		CRC32 crc = new CRC32();
+		crc.update(buf.array(), 0, buf.position());
+		crcs[crcIdx] = (int) crc.getValue();
+
+		buf.flip();
+		return pos + writeFully(channel, buf, pos);
+	}
+
+
+	private static long writeMatrix(FileChannel channel, long pos, FloatMatrix m,
+			int[] crcs, int crcIdx) throws IOException {
+		CRC32 crc = new CRC32();
+		ByteBuffer buf = newBuffer(WRITE_BUFFER_BYTES);
+		for (int r = 0; r < m.rows(); ++r){
+			for (int c = 0; c < m.cols(); ++c){
+				if (!buf.hasRemaining()){
+					pos = flush(channel, buf, pos, crc);
+				}
+				buf.putFloat(m.get(r, c));
+			}
+		}
+		pos = flush(channel, buf, pos, crc);
+		crcs[crcIdx] = (int) crc.getValue();
+		return pos;
+	}
+
+
+	private static long writeQuantizedPhi(FileChannel channel, long pos, QuantizedPhi phi,
+			int[] crcs, int crcIdx) throws IOException {
+		CRC32 crc = new CRC32();
+		ByteBuffer buf = newBuffer(WRITE_BUFFER_BYTES);
+		if (phi.scales != null){
+			for (int k = 0; k < phi.K; ++k){
+				if (buf.remaining() < 4){
+					pos = flush(channel, buf, pos, crc);
+				}
+				buf.putFloat(phi.scales[k]);
+			}
+		}
+		boolean half = phi.encoding == QuantizedPhi.Encoding.HALF;
+		for (int k = 0; k < phi.K; ++k){
+			for (int w = 0; w < phi.W; ++w){
+				if (buf.remaining() < 2){
+					pos = flush(channel, buf, pos, crc);
+				}
+				if (half){
+					buf.putShort((short) phi.code(k, w));
+				} else {
+					buf.put((byte) phi.code(k, w));
+				}
+			}
+		}
+		pos = flush(channel, buf, pos, crc);
+		crcs[crcIdx] = (int) crc.getValue();
+		return pos;
+	}
+
+
+	// The length of a sparse theta block
+	private static long sparseThetaBytes(int D, int nnz) {
+		return 8 + 4L * (D + 1) + (2L * nnz + 3) / 4 * 4 + 4L * nnz;
+	}
+
+
+	private static long writeSparseTheta(FileChannel channel, long pos, SparseTheta theta,
+			int[] crcs, int crcIdx) throws IOException {
+		CRC32 crc = new CRC32();
+		ByteBuffer buf = newBuffer(WRITE_BUFFER_BYTES);
+		buf.putInt(theta.size());
+		buf.putFloat(theta.threshold);
+		for (int d = 0; d <= theta.D; ++d){
+			if (buf.remaining() < 4){
+				pos = flush(channel, buf, pos, crc);
+			}
+			buf.putInt(theta.offsets[d]);
+		}
+		for (int i = 0; i < theta.size(); ++i){
+			if (buf.remaining() < 2){
+				pos = flush(channel, buf, pos, crc);
+			}
+			buf.putShort(theta.topics[i]);
+		}
+		if (theta.size() % 2 != 0){
+			if (buf.remaining() < 2){
+				pos = flush(channel, buf, pos, crc);
+			}
+			buf.putShort((short) 0);
+		}
+		for (int i = 0; i < theta.size(); ++i){
+			if (buf.remaining() < 4){
+				pos = flush(channel, buf, pos, crc);
+			}
+			buf.putFloat(theta.weights[i]);
+		}
+		pos = flush(channel, buf, pos, crc);
+		crcs[crcIdx] = (int) crc.getValue();
+		return pos;
+	}
+
+
+	private static SparseTheta readSparseTheta(FileChannel channel, long pos, int D, int K, File file) throws IOException {
+		ByteBuffer counts = newBuffer(8);
+		readFully(channel, counts, pos, file);
+		int nnz = counts.getInt(0);
+		if (nnz < 0){
+			throw new IOException(file + " is corrupt: negative size of sparse theta");
+		}
+		int[] offsets = new int[D + 1];
+		short[] topics = new short[nnz];
+		float[] weights = new float[nnz];
+		pos += 8;
+		channel.map(FileChannel.MapMode.READ_ONLY, pos, 4L * (D + 1))
+				.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(offsets);
+		pos += 4L * (D + 1);
+		channel.map(FileChannel.MapMode.READ_ONLY, pos, 2L * nnz)
+				.order(ByteOrder.LITTLE_ENDIAN).asShortBuffer().get(topics);
+		pos += (2L * nnz + 3) / 4 * 4;
+		channel.map(FileChannel.MapMode.READ_ONLY, pos, 4L * nnz)
+				.order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(weights);
+		if (offsets[D] != nnz){
+			throw new IOException(file + " is corrupt: bad offsets in sparse theta");
+		}
+		return new SparseTheta(K, offsets, topics, weights, counts.getFloat(4));
+	}
+
+
+	private static long flush(FileChannel channel, ByteBuffer buf, long pos, CRC32 crc) throws IOException {
+		crc.update(buf.array(), 0, buf.position());
+		buf.flip();
+		pos += writeFully(channel, buf, pos);
+		buf.clear();
+		return pos;
+	}
+
+
+	private static int writeFully(FileChannel channel, ByteBuffer buf, long pos) throws IOException {
+		int written = 0;
+		while (buf.hasRemaining()){
+			written += channel.write(buf, pos + written);
+		}
+		return written;
+	}
+
+
+	private static void readFully(FileChannel channel, ByteBuffer buf, long pos, File file) throws IOException {
+		while (buf.hasRemaining()){
+			if (channel.read(buf, pos + buf.position()) < 0){
+				throw new IOException(file + " is truncated");
+			}
+		}
+		buf.flip();
+	}
+
+
+	private static void checkCrc(ByteBuffer block, int expected, File file, String what) throws IOException {
+		CRC32 crc = new CRC32();
+		crc.update(block.duplicate());
+		if ((int) crc.getValue() != expected){
+			throw new IOException(file + " is corrupt: checksum mismatch in " + what);
+		}
+	}
+
+
+	private static void checkCrc(FileChannel channel, long offset, long length, int expected,
+			File file, String what) throws IOException {
+		CRC32 crc = new CRC32();
+		long done = 0;
+		while (done < length){
+			long chunk = Math.min(length - done, 1L << 30);
+			crc.update(channel.map(FileChannel.MapMode.READ_ONLY, offset + done, chunk));
+			done += chunk;
+		}
+		if ((int) crc.getValue() != expected){
+			throw new IOException(file + " is corrupt: checksum mismatch in " + what);
+		}
+	}
+
+
+	private static ByteBuffer newBuffer(int size) {
+		return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+
+	private static long align(long pos) {
+		return (pos + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+	}
+
+
+	// Unsigned, lexicographic comparison of two UTF-8 byte strings (which gives the same
+	// order as comparing the strings by code point).
+	static int compareBytes(byte[] a, byte[] b) {
+		int n = Math.min(a.length, b.length);
+		for (int i = 0; i < n; ++i){
+			int diff = (a[i] & 0xff) - (b[i] & 0xff);
+			if (diff != 0){
+				return diff;
+			}
+		}
+		return a.length - b.length;
+	}
+
+
+	/**
+	 * A sorted (key -> id) table that is read in place from the mapped file.
+	 */
+	static class StringTable {
+
+		final ByteBuffer buffer;
+		private final int count;
+		private final IntBuffer ids;
+		private final IntBuffer offsets;
+		private final ByteBuffer data;
+
+		StringTable(FileChannel channel, long pos) throws IOException {
+			ByteBuffer counts = channel.map(FileChannel.MapMode.READ_ONLY, pos, 8).order(ByteOrder.LITTLE_ENDIAN);
+			this.count = counts.getInt(0);
+			int dataLength = counts.getInt(4);
+			if (count < 0 || dataLength < 0){
+				throw new IOException("Corrupt table at offset " + pos);
+			}
+
+			int indexBytes = 4 * count + 4 * (count + 1);
+			this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, pos, 8L + indexBytes + dataLength)
+					.order(ByteOrder.LITTLE_ENDIAN);
+
+			ByteBuffer b = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+			b.position(8);
+			this.ids = b.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+			b.position(8 + 4 * count);
+			this.offsets = b.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+			b.position(8 + indexBytes);
+			this.data = b.slice();
+		}
+
+		int size() {
+			return count;
+		}
+
+		// The id of the i'th key, in sorted order
+		int id(int i) {
+			return ids.get(i);
+		}
+
+		// The i'th key, in sorted order
+		String key(int i) {
+			return new String(keyBytes(i), UTF8);
+		}
+
+		byte[] keyBytes(int i) {
+			int start = offsets.get(i);
+			byte[] out = new byte[offsets.get(i + 1) - start];
+			for (int j = 0; j < out.length; ++j){
+				out[j] = data.get(start + j);
+			}
+			return out;
+		}
+
+		/**
+		 * Returns the id of the given key, or -1 if the key is not in the table.
+		 */
+		int get(String key) {
+			byte[] k = key.getBytes(UTF8);
+			int lo = 0;
+			int hi = count - 1;
+			while (lo <= hi){
+				int mid = (lo + hi) >>> 1;
+				int cmp = compareTo(mid, k);
+				if (cmp < 0){
+					lo = mid + 1;
+				} else if (cmp > 0){
+					hi = mid - 1;
+				} else {
+					return ids.get(mid);
+				}
+			}
+			return -1;
+		}
+
+		// Compares the i'th key against the given bytes, without copying the key
+		private int compareTo(int i, byte[] k) {
+			int start = offsets.get(i);
+			int len = offsets.get(i + 1) - start;
+			int n = Math.min(len, k.length);
+			for (int j = 0; j < n; ++j){
+				int diff = (data.get(start + j) & 0xff) - (k[j] & 0xff);
+				if (diff != 0){
+					return diff;
+				}
+			}
+			return len - k.length;
+		}
+	}
+
+
+	// Views of an LDAK's theta and phi as FloatMatrix, whatever their storage
+	private static class ThetaView implements FloatMatrix {
+		private final LDAHelper.LDAK ldak;
+		ThetaView(LDAHelper.LDAK ldak) { this.ldak = ldak; }
+		public int rows() { return ldak.D; }
+		public int cols() { return ldak.K; }
+		public float get(int row, int col) { return ldak.getTheta(row, col); }
+	}
+
+	static class PhiView implements FloatMatrix {
+		private final LDAHelper.LDAK ldak;
+		PhiView(LDAHelper.LDAK ldak) { this.ldak = ldak; }
+		public int rows() { return ldak.K; }
+		public int cols() { return ldak.W; }
+		public float get(int row, int col) { return ldak.getPhi(row, col); }
+	}
+}
@@ -0,0 +1,229 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+LDAQuery.java
+
+A Lucene Query that scores documents by LDA conditional probability directly: the score
+of document d is sum_k theta_dk * q_k, where q is the topic vector of the query.
+
+The documents that match are those that contain (in their "topicspayload"+K field) any
+of the query's topics, i.e., the same documents that a BooleanQuery of PayloadTermQuerys
+on those topics would match. For each segment, the postings of the query's topics are
+read into a bit set of candidates; the scorer then walks the candidates in order, and
+scores each one exactly from the segment's TopicVectorColumn. So, a single search with a
+top-k collector returns the exact top k, with no payload decoding, no second pass, and no
+stored-field loading.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Set;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.TermDocs;
+import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Searcher;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.OpenBitSet;
+import org.apache.lucene.util.OpenBitSetIterator;
+
+class LDAQuery extends Query {
+
+	private static final long serialVersionUID = 1L;
+
+	// The prefix of the field that holds the (above threshold) topics of each document
+	static final String PAYLOAD_FIELD_PREFIX = "topicspayload";
+
+	final int K;
+
+	// The query's topic vector (of length K), and the topics that select candidates
+	private final float[] queryScores;
+	private final int[] topics;
+
+	/**
+	 * @param K The number of topics of the LDA scenario
+	 * @param queryScores The topic vector of the query; a copy is kept
+	 * @param topics The topics whose documents are candidates (usually, the topics with a
+	 *               nonzero score in queryScores)
+	 */
+	LDAQuery(int K, float[] queryScores, int[] topics) {
+		this.K = K;
+		this.queryScores = queryScores.clone();
+		this.topics = topics.clone();
+	}
+
+	// The term of the given topic, in the payload field
+	Term topicTerm(int k) {
+		return new Term(PAYLOAD_FIELD_PREFIX + K, "p" + k);
+	}
+
+	/**
+	 * Reads the postings of the query's topics in one segment (the candidates); returns
+	 * null if none of its documents contain any of them.
+	 */
+	OpenBitSet candidates(IndexReader reader) throws IOException {
+		OpenBitSet candidates = null;
+		int[] docs = new int[128];
+		int[] freqs = new int[128];
+		TermDocs termDocs = reader.termDocs();
+		try {
+			for (int i = 0; i < topics.length; ++i){
+				termDocs.seek(topicTerm(topics[i]));
+				int n;
+				while ((n = termDocs.read(docs, freqs)) > 0){
+					if (candidates == null){
+						candidates = new OpenBitSet(reader.maxDoc());
+					}
+					for (int j = 0; j < n; ++j){
+						candidates.fastSet(docs[j]);
+					}
+				}
+			}
+		} finally {
+			termDocs.close();
+		}
+		return candidates;
+	}
+
+	@SuppressWarnings("deprecation")
+	public Weight createWeight(Searcher searcher) throws IOException {
+		return new LDAWeight();
+	}
+
+	public void extractTerms(Set<Term> terms) {
+		for (int i = 0; i < topics.length; ++i){
+			terms.add(topicTerm(topics[i]));
+		}
+	}
+
+	public String toString(String field) {
+		StringBuilder sb = new StringBuilder("lda" + K + "(");
+		for (int i = 0; i < topics.length; ++i){
+			if (i > 0){
+				sb.append(' ');
+			}
+			sb.append("p" + topics[i] + "^" + queryScores[topics[i]]);
+		}
+		sb.append(')');
+		if (getBoost() != 1.0f){
+			sb.append("^" + getBoost());
+		}
+		return sb.toString();
+	}
+
+	public int hashCode() {
+		return 31 * (31 * (31 * K + Arrays.hashCode(queryScores)) + Arrays.hashCode(topics))
+			+ Float.floatToIntBits(getBoost());
+	}
+
+	public boolean equals(Object o) {
+		if (!(o instanceof LDAQuery)){
+			return false;
+		}
+		LDAQuery other = (LDAQuery) o;
+		return K == other.K && getBoost() == other.getBoost()
+			&& Arrays.equals(queryScores, other.queryScores)
+			&& Arrays.equals(topics, other.topics);
+	}
+
+
+	// The score is the conditional probability itself, so it is not normalized (the
+	// query's boost is the only factor applied).
+	private class LDAWeight extends Weight {
+
+		private static final long serialVersionUID = 1L;
+
+		public Query getQuery() {
+			return LDAQuery.this;
+		}
+
+		public float getValue() {
+			return getBoost();
+		}
+
+		public float sumOfSquaredWeights() {
+			return 0;
+		}
+
+		public void normalize(float norm) {
+			// Scores are not normalized
+		}
+
+		public Scorer scorer(IndexReader reader, boolean scoreDocsInOrder, boolean topScorer) throws IOException {
+			OpenBitSet candidates = candidates(reader);
+			if (candidates == null){
+				return null;
+			}
+			return new LDAScorer(this, candidates, TopicVectorColumn.get(reader, K), getBoost());
+		}
+
+		public Explanation explain(IndexReader reader, int doc) throws IOException {
+			OpenBitSet candidates = candidates(reader);
+			if (candidates == null || !candidates.get(doc)){
+				return new Explanation(0, "no matching topic");
+			}
+			float[] vector = new float[K];
+			TopicVectorColumn.get(reader, K).get(doc, vector);
+			Explanation result = new Explanation(0, "conditional probability, sum of:");
+			float sum = 0;
+			for (int k = 0; k < K; ++k){
+				float product = vector[k] * queryScores[k];
+				if (product != 0){
+					result.addDetail(new Explanation(product, "theta[" + k + "]=" + vector[k] + " * q[" + k + "]=" + queryScores[k]));
+				}
+				sum += product;
+			}
+			result.setValue(sum * getBoost());
+			return result;
+		}
+	}
+
+
+	private class LDAScorer extends Scorer {
+
+		private final OpenBitSetIterator it;
+		private final TopicVectorColumn column;
+		private final float boost;
+		private int doc = -1;
+
+		LDAScorer(Weight weight, OpenBitSet candidates, TopicVectorColumn column, float boost) {
+			super(weight);
+			this.it = new OpenBitSetIterator(candidates);
+			this.column = column;
+			this.boost = boost;
+		}
+
+		public int docID() {
+			return doc;
+		}
+
+		public int nextDoc() throws IOException {
+			doc = it.nextDoc();
+			return doc;
+		}
+
+		public int advance(int target) throws IOException {
+			doc = it.advance(target);
+			return doc;
+		}
+
+		public float score() throws IOException {
+			float score = column.dot(doc, queryScores);
+			return boost == 1.0f ? score : score * boost;
+		}
+
+		public float freq() throws IOException {
+			return 1;
+		}
+	}
+}
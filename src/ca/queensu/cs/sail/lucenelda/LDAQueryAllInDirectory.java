@@ -1,275 +1,364 @@
-/*
-####################################################################################
-Stephen W. Thomas
-sthomas@cs.queensu.ca
-Queen's University
-
-LDAQueryAllInDirectory.java
-
-(Invoked from command line, or via main() method.)
-
-This command-line class reads all queries in the given directory, and throws them against a
-specified (prebuilt) index using LDA. The results are output in a given output directory. 
-There are two options: K, and scoringCode.
-See below for the specification.
-
-####################################################################################
-*/
-
-
-package ca.queensu.cs.sail.lucenelda;
-
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileWriter;
-import java.io.ObjectInputStream;
-import java.io.PrintWriter;
-
-import java.util.HashMap;
-
-import org.apache.log4j.BasicConfigurator;
-import org.apache.log4j.Level;
-import org.apache.log4j.Logger;
-import org.apache.lucene.document.Document;
-import org.apache.lucene.index.IndexReader;
-import org.apache.lucene.index.Term;
-import org.apache.lucene.search.BooleanClause.Occur;
-import org.apache.lucene.search.BooleanQuery;
-import org.apache.lucene.search.IndexSearcher;
-import org.apache.lucene.search.ScoreDoc;
-import org.apache.lucene.search.TopDocs;
-import org.apache.lucene.search.payloads.AveragePayloadFunction;
-import org.apache.lucene.search.payloads.PayloadTermQuery;
-import org.apache.lucene.store.Directory;
-import org.apache.lucene.store.NIOFSDirectory;
-import org.apache.lucene.search.BooleanQuery;
-
-import org.apache.commons.io.FileUtils;
-
-import com.martiansoftware.jsap.FlaggedOption;
-import com.martiansoftware.jsap.JSAP;
-import com.martiansoftware.jsap.JSAPResult;
-import com.martiansoftware.jsap.Switch;
-import com.martiansoftware.jsap.UnflaggedOption;
-
-public class LDAQueryAllInDirectory {
-	
-	private static int maxHits = 500;
-	private static IndexReader reader = null;
-	private static IndexSearcher searcher = null;
-	static LDAHelper lda = null;
-	
-	private static final Logger logger = Logger.getRootLogger();
-	
-	public static void main(String[] args) throws Exception {
-		
-		// Set up the Apache log4j logger, only if we need to (another class or test case or ant
-		// may have already set up the logger.)
-		if (!logger.getAllAppenders().hasMoreElements()) {
-			BasicConfigurator.configure();
-			logger.setLevel(Level.INFO);
-		}
-
-		
-		// Use the JSAP library to intelligently set up and parse our command
-		// line options
-		JSAP jsap = new JSAP();
-		
-		UnflaggedOption opt0 = new UnflaggedOption("indexDir").setStringParser(
-				JSAP.STRING_PARSER).setRequired(true);
-		opt0.setHelp("The directory containing the pre-build Lucene index.");
-		
-		UnflaggedOption opt0a = new UnflaggedOption("LDAIndexDir").setStringParser(
-				JSAP.STRING_PARSER).setRequired(true);
-		opt0a.setHelp("The directory containing the pre-build LDA index.");
-
-		UnflaggedOption opt1 = new UnflaggedOption("queryDir").setStringParser(
-				JSAP.STRING_PARSER).setRequired(true);
-		opt1.setHelp("The input directory containing queries to run against the specified index.");
-
-		UnflaggedOption opt2 = new UnflaggedOption("resultsDir").setStringParser(
-				JSAP.STRING_PARSER).setRequired(true);
-		opt2.setHelp("The output directory for the results of each query: one file per original query in queryDirName.");
-
-		FlaggedOption opt3 = new FlaggedOption("K")
-				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
-				.setLongFlag("K").setDefault("0");
-		opt3.setHelp("If multiple LDA configuration were run (i.e., multiple Ks), then specify which one to use."
-				+ "Default: the lowest K.");
-		
-		FlaggedOption opt4 = new FlaggedOption("scoringCode")
-		.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
-		.setLongFlag("scoringCode").setDefault("1");
-		opt4.setHelp("An integer code that specifies the scoring metric that should be used. "
-		+ "1=conditional probability.");
-
-		Switch sw0 = new Switch("help").setDefault("false").setLongFlag("help");
-		sw0.setHelp("Prints this message.");
-
-		jsap.registerParameter(sw0);
-		jsap.registerParameter(opt0);
-		jsap.registerParameter(opt0a);
-		jsap.registerParameter(opt1);
-		jsap.registerParameter(opt2);
-		jsap.registerParameter(opt3);
-		jsap.registerParameter(opt4);
-
-		// check whether the command line was valid, and if it wasn't,
-		// display usage information and exit.
-		JSAPResult config = jsap.parse(args);
-		if (!config.success()) {
-			for (java.util.Iterator errs = config.getErrorMessageIterator(); errs
-					.hasNext();) {
-				logger.error("Error: " + errs.next());
-			}
-			displayHelp(config, jsap);
-			return;
-		}
-
-		if (config.getBoolean("help")) {
-			displayHelp(config, jsap);
-			return;
-		}
-		
-		String indexDirName  	= config.getString("indexDir");
-		String LDAIndexName		= config.getString("LDAIndexDir");
-		String queryDirName  	= config.getString("queryDir");
-		String resultsDirName 	= config.getString("resultsDir");
-		int K             		= config.getInt("K");
-		int scoringCode   		= config.getInt("scoringCode");
-
-        // Make sure output directory exists
-        File outDirF = new File(resultsDirName);
-        if (!outDirF.exists()){
-            outDirF.mkdirs();
-        }
-		
-		// Open the serialized LDAHelper object
-		FileInputStream fis  = null;
-		ObjectInputStream in = null;
-		try{
-			fis = new FileInputStream(LDAIndexName);
-			in = new ObjectInputStream(fis);
-			lda = (LDAHelper)in.readObject();
-			in.close();
-		}
-		catch(Exception ex){
-			ex.printStackTrace();
-		}
-		
-		int idx = lda.which(K);
-		
-		// Open the index
-		File indexDir = new File(indexDirName);
-		Directory dir = NIOFSDirectory.open(indexDir);
-		
-		reader   = IndexReader.open(dir, true);
-		searcher = new IndexSearcher(reader);
-
-        BooleanQuery.setMaxClauseCount(8092);
-		
-		// Run every query in the directory!
-		File queryDir = new File(queryDirName);
-		File[] files  = queryDir.listFiles();
-		for (int i = 0; i < files.length; ++i){
-			File f = files[i];
-			if (f.isDirectory() || f.isHidden() || !f.exists() || !f.canRead()){
-				continue;
-			}
-			String query = FileUtils.readFileToString(f);
-
-            // tmp hack: make sure query doesn't have numbers or punctuation
-            query = query.replaceAll("\\^.", " ");
-            query = query.replaceAll("[1234567890\\p{Punct}\\n]", " ");
-			
-			// Make sure the query isn't blank
-			if (!query.matches("^\\s*$")){
-				
-				// Open the output file for results
-				String outFile 		= resultsDirName + "/" + f.getName();
-				FileWriter fwriter 	= new FileWriter(outFile);
-				PrintWriter out 	= new PrintWriter(fwriter);
-				
-				logger.info("Executing query for " + f.toString() + "; results will be placed in " + outFile.toString());
-				
-				
-				// First, we need to find all the topics in the query: for each term, find out all topics that contain this term;
-				// Then, take the union of all in the topics of all the terms
-				// Then, build the Boolean query below with multiple PayloadTermQuery()s
-				float queryOpt[]    = new float[lda.scens.get(idx).K];
-				BooleanQuery bquery = new BooleanQuery();
-							
-				// For each topic, sum up the scores of the words in the query
-				String[] querySplitParts = query.split("\\s+");
-				for (int k = 0; k < lda.scens.get(idx).K; ++k){
-					float score = 0.0f;
-					for (int j = 0; j<querySplitParts.length; ++j){
-						if (lda.scens.get(idx).termMap.containsKey(querySplitParts[j])){ // Make sure the key exists in the map (it might not, due to vocab mismatch)
-							int idx2 = lda.scens.get(idx).termMap.get(querySplitParts[j]);
-							score = score + lda.scens.get(idx).phi[k][idx2];
-						}
-					}
-					
-					// Now, add this topic to the list, if the score is nonzero
-					if (score > 0.01f){
-						//System.out.printf("Adding topic %d with score %f\n", k, score);
-						PayloadTermQuery fsq1 = new PayloadTermQuery(new Term("topicspayload"+lda.scens.get(idx).K, "p"+k), new AveragePayloadFunction(), false);
-						bquery.add(fsq1, Occur.SHOULD);						
-						queryOpt[k] = score;
-					}
-				}
-				
-				//logger.info("LDA query: " + bquery);
-
-				// Actually execute the query
-				TopDocs hits = searcher.search(bquery, maxHits);
-				ScoreDoc[] scoreDocs = hits.scoreDocs;
-				
-				logger.info("Found " +hits.totalHits + " hits\n");
-				
-				// Save a filename -> docID mapping
-				HashMap<String, Integer> hm = new HashMap<String, Integer>();
-				for (int n = 0; n < scoreDocs.length; ++n) {
-					ScoreDoc sd = scoreDocs[n];
-					int docId = sd.doc;
-					Document d = searcher.doc(docId);
-					String fileName = d.get("file");
-					hm.put(fileName,  docId);
-				}
-				
-				// Rerank the results, based on the custom LDA scoring scheme
-				HashMap<String, Float> sorted = lda.reRank(searcher, hits, queryOpt, lda.scens.get(idx).K);
-			
-				
-				// Print our results
-				int counter = 0;
-                int numToOutput = Math.min(maxHits, sorted.size());
-				for (String fileName : sorted.keySet()){
-                    if (counter >= numToOutput){
-                        break;
-                    }
-					float score      = sorted.get(fileName);
-					int docId 		 = hm.get(fileName);
-					Document d 		 = searcher.doc(docId);
-
-					out.printf("%s,%4.3f\n", fileName, score);
-					++counter;
-				}
-				out.close();
-			}
-		}
-		
-		// Close the index to save memory
-		reader.close();
-	}
-	
-	/* Use JSAP to display command-line usage information */
-	private static void displayHelp(JSAPResult config, JSAP jsap) {
-		System.err.println();
-		System.err.println("Usage: java " + LDAQueryAllInDirectory.class.getName());
-		System.err.println("                " + jsap.getUsage());
-		System.err.println();
-		System.err.println(jsap.getHelp());
-		System.err.println();
-	}
-}
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+LDAQueryAllInDirectory.java
+
+(Invoked from command line, or via main() method.)
+
+This command-line class reads all queries in the given directory, and throws them against a
+specified (prebuilt) index using LDA. The results are output in a given output directory. 
+There are two options: K, and scoringCode.
+See below for the specification.
+(With --Ks, every query is instead run against several Ks at once, in one pass, and the
+results of each K are written to their own directory; see MultiKQueryEngine.)
+(Alternatively, the queries can be read from a single TSV or JSONL file, or stdin, and the
+results written to a single TREC or binary run file; see QueryReader and RunWriter.)
+
+####################################################################################
+*/
+
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.apache.log4j.BasicConfigurator;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.NIOFSDirectory;
+
+import com.martiansoftware.jsap.FlaggedOption;
+import com.martiansoftware.jsap.JSAP;
+import com.martiansoftware.jsap.JSAPResult;
+import com.martiansoftware.jsap.Switch;
+import com.martiansoftware.jsap.UnflaggedOption;
+
+public class LDAQueryAllInDirectory {
+	
+	private static int maxHits = 500;
+	
+	private static final Logger logger = Logger.getRootLogger();
+	
+	public static void main(String[] args) throws Exception {
+		
+		// Set up the Apache log4j logger, only if we need to (another class or test case or ant
+		// may have already set up the logger.)
+		if (!logger.getAllAppenders().hasMoreElements()) {
+			BasicConfigurator.configure();
+			logger.setLevel(Level.INFO);
+		}
+
+		
+		// Use the JSAP library to intelligently set up and parse our command
+		// line options
+		JSAP jsap = new JSAP();
+		
+		UnflaggedOption opt0 = new UnflaggedOption("indexDir").setStringParser(
+				JSAP.STRING_PARSER).setRequired(true);
+		opt0.setHelp("The directory containing the pre-build Lucene index.");
+		
+		UnflaggedOption opt0a = new UnflaggedOption("LDAIndexDir").setStringParser(
+				JSAP.STRING_PARSER).setRequired(true);
+		opt0a.setHelp("The directory containing the pre-build LDA index.");
+
+		UnflaggedOption opt1 = new UnflaggedOption("queryDir").setStringParser(
+				JSAP.STRING_PARSER).setRequired(true);
+		opt1.setHelp("The input directory containing queries to run against the specified index, one per file; or a file "
+				+ "of queries, or - for stdin (see --queryFormat).");
+
+		UnflaggedOption opt2 = new UnflaggedOption("resultsDir").setStringParser(
+				JSAP.STRING_PARSER).setRequired(true);
+		opt2.setHelp("The output directory for the results of each query: one file per original query in queryDirName; "
+				+ "or, with --runFormat trec or binary, the run file to write, or - for stdout.");
+
+		FlaggedOption opt3 = new FlaggedOption("K")
+				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+				.setLongFlag("K").setDefault("0");
+		opt3.setHelp("If multiple LDA configuration were run (i.e., multiple Ks), then specify which one to use."
+				+ "Default: the lowest K.");
+		
+		FlaggedOption opt4 = new FlaggedOption("scoringCode")
+		.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+		.setLongFlag("scoringCode").setDefault("1");
+		opt4.setHelp("An integer code that specifies the scoring metric that should be used. "
+		+ "1=conditional probability (the only one).");
+
+		Switch sw0 = new Switch("help").setDefault("false").setLongFlag("help");
+		sw0.setHelp("Prints this message.");
+
+		Switch sw1 = new Switch("verifyModel").setDefault("false").setLongFlag("verifyModel");
+		sw1.setHelp("Read the whole LDA index and verify its checksums before running any queries.");
+
+		FlaggedOption opt6 = new FlaggedOption("phiEpsilon")
+				.setStringParser(JSAP.FLOAT_PARSER).setRequired(false)
+				.setLongFlag("phiEpsilon").setDefault("0");
+		opt6.setHelp("Weights of a term in a topic at or below this value are ignored when computing the topics "
+				+ "of a query. Default: 0 (only exact zeros are ignored).");
+
+		FlaggedOption opt5 = new FlaggedOption("threads")
+				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+				.setLongFlag("threads").setDefault("0");
+		opt5.setHelp("The number of queries to execute concurrently. Default: one per available processor.");
+
+		Switch sw2 = new Switch("unordered").setDefault("false").setLongFlag("unordered");
+		sw2.setHelp("Write the results of each query as soon as it finishes, rather than in the order of the query files.");
+
+		Switch sw3 = new Switch("twoPass").setDefault("false").setLongFlag("twoPass");
+		sw3.setHelp("Execute queries the old way: find the best documents with a Payload query, and then re-rank "
+				+ "only those by conditional probability. (By default, every matching document is scored exactly.)");
+
+		Switch sw4 = new Switch("foldInQuery").setDefault("false").setLongFlag("foldInQuery");
+		sw4.setHelp("Use the topic memberships of each query, estimated by folding it in to the LDA model, as its topic "
+				+ "vector. (By default, the topic vector is the sum of the topic memberships of the query's terms.)");
+
+		Switch sw5 = new Switch("ann").setDefault("false").setLongFlag("ann");
+		sw5.setHelp("Find the top documents of each query approximately, by searching the topic vector index that was "
+				+ "built with the index (see --annMetric of the indexing tools), rather than scoring every matching "
+				+ "document. If there is no such index, or it is stale, every matching document is scored as usual.");
+
+		FlaggedOption opt7 = new FlaggedOption("annEf")
+				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+				.setLongFlag("annEf").setDefault("100");
+		opt7.setHelp("With --ann, the number of candidate documents each search keeps: larger is slower, but closer to "
+				+ "exact. 0 scores every document in the topic vector index exactly. Default: 100.");
+
+		FlaggedOption opt9 = new FlaggedOption("queryFormat")
+				.setStringParser(JSAP.STRING_PARSER).setRequired(false)
+				.setLongFlag("queryFormat").setDefault("auto");
+		opt9.setHelp("If queryDir is a file of queries (or - for stdin) rather than a directory, their format: tsv (a name, "
+				+ "a tab and the query text on each line), jsonl ({\"id\": ..., \"text\": ...} on each line), or auto "
+				+ "(jsonl if the file name ends with .jsonl or .json, and tsv otherwise). Default: auto.");
+
+		FlaggedOption opt10 = new FlaggedOption("runFormat")
+				.setStringParser(JSAP.STRING_PARSER).setRequired(false)
+				.setLongFlag("runFormat").setDefault("files");
+		opt10.setHelp("How to write the results: files (one file per query, in the directory resultsDir), trec (one TREC "
+				+ "run file, resultsDir, or - for stdout) or binary (one compact run file; see RunWriter). Default: files.");
+
+		FlaggedOption opt11 = new FlaggedOption("runTag")
+				.setStringParser(JSAP.STRING_PARSER).setRequired(false)
+				.setLongFlag("runTag").setDefault("lda");
+		opt11.setHelp("The name of the run, in the last column of a trec run file. Default: lda.");
+
+		FlaggedOption opt12 = new FlaggedOption("Ks")
+				.setStringParser(JSAP.STRING_PARSER).setRequired(false)
+				.setList(true).setListSeparator(',')
+				.setLongFlag("Ks");
+		opt12.setHelp("Run every query against each of these LDA configurations (a comma-separated list of Ks, or all), "
+				+ "in one pass, instead of the one given by --K: each query is read and tokenized once, and the index and "
+				+ "the LDA index are opened once. The results of each K are written to resultsDir/K<K>: a results "
+				+ "directory, or, with --runFormat trec or binary, the run file resultsDir/K<K>.trec or K<K>.bin "
+				+ "(tagged <runTag>.K<K>).");
+
+		FlaggedOption opt8 = new FlaggedOption("metrics")
+				.setStringParser(JSAP.STRING_PARSER).setRequired(false)
+				.setLongFlag("metrics");
+		opt8.setHelp("If given, write the timings and counters of each phase of the run to this file: as CSV if its "
+				+ "name ends with .csv, and as JSON otherwise. See Metrics.");
+
+		jsap.registerParameter(sw0);
+		jsap.registerParameter(sw1);
+		jsap.registerParameter(opt0);
+		jsap.registerParameter(opt0a);
+		jsap.registerParameter(opt1);
+		jsap.registerParameter(opt2);
+		jsap.registerParameter(opt3);
+		jsap.registerParameter(opt4);
+		jsap.registerParameter(opt5);
+		jsap.registerParameter(opt6);
+		jsap.registerParameter(sw2);
+		jsap.registerParameter(sw3);
+		jsap.registerParameter(sw4);
+		jsap.registerParameter(sw5);
+		jsap.registerParameter(opt7);
+		jsap.registerParameter(opt8);
+		jsap.registerParameter(opt9);
+		jsap.registerParameter(opt10);
+		jsap.registerParameter(opt11);
+		jsap.registerParameter(opt12);
+
+		// check whether the command line was valid, and if it wasn't,
+		// display usage information and exit.
+		JSAPResult config = jsap.parse(args);
+		if (!config.success()) {
+			for (java.util.Iterator errs = config.getErrorMessageIterator(); errs
+					.hasNext();) {
+				logger.error("Error: " + errs.next());
+			}
+			displayHelp(config, jsap);
+			return;
+		}
+
+		if (config.getBoolean("help")) {
+			displayHelp(config, jsap);
+			return;
+		}
+
+		RunWriter.Format runFormat;
+		try {
+			runFormat = RunWriter.Format.parse(config.getString("runFormat"));
+			QueryReader.Format.parse(config.getString("queryFormat"), config.getString("queryDir"));
+		} catch (IllegalArgumentException e) {
+			logger.error("Error: " + e.getMessage());
+			return;
+		}
+		if (config.getString("resultsDir").equals("-")){
+			if (config.contains("Ks")){
+				logger.error("Error: with --Ks, resultsDir must be a directory");
+				return;
+			}
+			RunWriter.logToStderr();
+		}
+
+		String indexDirName  	= config.getString("indexDir");
+		String LDAIndexName		= config.getString("LDAIndexDir");
+		String queryDirName  	= config.getString("queryDir");
+		String resultsDirName 	= config.getString("resultsDir");
+		int K             		= config.getInt("K");
+		int scoringCode   		= config.getInt("scoringCode");
+		if (scoringCode != 1){
+			logger.error("Error: unknown scoringCode " + scoringCode + " (1=conditional probability)");
+			return;
+		}
+
+		// Open the LDA index (memory-mapped, so this is cheap)
+		LDAHelper lda = LDAHelper.load(LDAIndexName);
+		lda.setTermTopicEpsilon(config.getFloat("phiEpsilon"));
+		if (!config.contains("Ks")){
+			try {
+				lda.which(K);
+			} catch (IllegalArgumentException e) {
+				logger.error("Error: " + e.getMessage());
+				return;
+			}
+		}
+		if (config.getBoolean("verifyModel")){
+			logger.info("Verifying checksums of " + LDAIndexName);
+			LDAModelFile.verify(new File(LDAIndexName));
+		}
+		
+		// Open the index
+		File indexDir = new File(indexDirName);
+		Directory dir = NIOFSDirectory.open(indexDir);
+		
+		long openStart = System.nanoTime();
+		IndexReader reader     = IndexReader.open(dir, true);
+		IndexSearcher searcher = new IndexSearcher(reader);
+		Metrics.OPEN_INDEX.since(openStart);
+
+        // (Only needed by the two-pass way, whose Payload query has one clause per topic.)
+        BooleanQuery.setMaxClauseCount(8092);
+		
+		// Run every query (of the directory, or the query file), on as many threads as
+		// requested. Every thread shares the same searcher and LDA index.
+		QueryExecutor executor = new QueryExecutor(config.getInt("threads"), !config.getBoolean("unordered"));
+		if (config.contains("Ks")){
+			runAllKs(config, lda, indexDir, searcher, executor, runFormat);
+		} else {
+			LDAQueryEngine engine = newEngine(config, lda, K, indexDir, searcher);
+			RunWriter out = new RunWriter(resultsDirName, runFormat, config.getString("runTag"));
+			try {
+				executor.run(queryDirName, config.getString("queryFormat"), engine, out);
+			} finally {
+				out.close();
+			}
+		}
+		
+		// Close the index to save memory
+		reader.close();
+		if (config.contains("metrics")){
+			Metrics.writeTo(new File(config.getString("metrics")));
+		}
+	}
+	
+	// The engine of scenario K, as configured by the command line
+	private static LDAQueryEngine newEngine(JSAPResult config, LDAHelper lda, int K, File indexDir,
+			IndexSearcher searcher) throws IOException {
+		LDAQueryEngine engine = new LDAQueryEngine(searcher, lda, K, maxHits, config.getBoolean("twoPass"));
+		if (config.getBoolean("foldInQuery")){
+			engine.setInferencer(new TopicInferencer(lda.scens.get(lda.which(K)), 1));
+		}
+		if (config.getBoolean("ann")){
+			engine.setTopicVectorIndex(TopicVectorIndex.open(indexDir, searcher.getIndexReader(),
+					lda.scens.get(lda.which(K)).K), config.getInt("annEf"));
+		}
+		return engine;
+	}
+
+	// Runs every query against each of the scenarios given by --Ks, in one pass, writing
+	// the results of each to resultsDir/K<K> (see MultiKQueryEngine)
+	private static void runAllKs(JSAPResult config, LDAHelper lda, File indexDir, IndexSearcher searcher,
+			QueryExecutor executor, RunWriter.Format runFormat) throws Exception {
+		Set<Integer> Ks = new LinkedHashSet<Integer>();
+		for (String k : config.getStringArray("Ks")){
+			if (k.trim().equalsIgnoreCase("all")){
+				for (LDAHelper.LDAK ldak : lda.scens){
+					Ks.add(ldak.K);
+				}
+				continue;
+			}
+			int K;
+			try {
+				K = Integer.parseInt(k.trim());
+			} catch (NumberFormatException e) {
+				K = 0;
+			}
+			// (which() would take 0 to mean the lowest K)
+			if (K <= 0){
+				logger.error("Error: bad K in --Ks: " + k);
+				return;
+			}
+			try {
+				lda.which(K);
+			} catch (IllegalArgumentException e) {
+				logger.error("Error: " + e.getMessage());
+				return;
+			}
+			Ks.add(K);
+		}
+
+		File resultsDir = new File(config.getString("resultsDir"));
+		resultsDir.mkdirs();
+		String extension = runFormat == RunWriter.Format.TREC ? ".trec" : runFormat == RunWriter.Format.BINARY ? ".bin" : "";
+		LDAQueryEngine[] engines = new LDAQueryEngine[Ks.size()];
+		RunWriter[] outs = new RunWriter[Ks.size()];
+		try {
+			int i = 0;
+			for (int K : Ks){
+				logger.info("Querying LDA configuration K=" + K);
+				engines[i] = newEngine(config, lda, K, indexDir, searcher);
+				outs[i] = new RunWriter(new File(resultsDir, "K" + K + extension).getPath(), runFormat,
+						config.getString("runTag") + ".K" + K);
+				++i;
+			}
+			executor.run(config.getString("queryDir"), config.getString("queryFormat"),
+					new MultiKQueryEngine(engines), new MultiKQueryEngine.Router(outs));
+		} finally {
+			for (RunWriter out : outs){
+				if (out != null){
+					out.close();
+				}
+			}
+		}
+	}
+
+	/* Use JSAP to display command-line usage information */
+	private static void displayHelp(JSAPResult config, JSAP jsap) {
+		System.err.println();
+		System.err.println("Usage: java " + LDAQueryAllInDirectory.class.getName());
+		System.err.println("                " + jsap.getUsage());
+		System.err.println();
+		System.err.println(jsap.getHelp());
+		System.err.println();
+	}
+}
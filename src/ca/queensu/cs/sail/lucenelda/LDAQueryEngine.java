@@ -0,0 +1,285 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+LDAQueryEngine.java
+
+Executes queries using LDA: finds the topics in the query, and then retrieves the
+documents that contain those topics, scored by conditional probability, with an
+LDAQuery. (Optionally, the old two-pass way: a Payload query, whose best hits are then
+re-ranked by conditional probability; see LDAHelper.reRank.)
+
+The IndexSearcher and LDAHelper are shared by all threads; the topic vector of the query
+being executed, and the ranker of its results, are per-thread scratch state. Query topic
+vectors may be kept in a QueryCache (see setCache()), so that a repeated query, even with
+different options, skips the term-topic lookups.
+
+By default, the topic vector of a query is the sum of the topic memberships (phi) of its
+terms. Optionally (see setInferencer()), it is instead the query's own theta, estimated by
+folding the query in to the model (see TopicInferencer).
+
+Optionally (see setTopicVectorIndex()), the top documents are found approximately, by a
+search of a TopicVectorIndex, rather than by an LDAQuery.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.apache.log4j.Logger;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.payloads.AveragePayloadFunction;
+import org.apache.lucene.search.payloads.PayloadTermQuery;
+
+class LDAQueryEngine implements QueryEngine {
+
+	private static final Logger logger = Logger.getRootLogger();
+
+	private final IndexSearcher searcher;
+	private final LDAHelper lda;
+	private final LDAHelper.LDAK ldak;
+	private final String modelVersion;
+	private final int maxHits;
+	private final boolean twoPass;
+
+	// The cache of query topic vectors, if any
+	private volatile QueryCache cache;
+
+	// If set, the topic vector of a query is its folded-in theta
+	private volatile TopicInferencer inferencer;
+
+	// If set, the approximate index to search instead of the Lucene index, and its ef
+	private volatile TopicVectorIndex vectorIndex;
+	private volatile int ef;
+
+	// The topic scores of the query, one array per thread
+	private final ThreadLocal<float[]> queryScores = new ThreadLocal<float[]>() {
+		protected float[] initialValue() {
+			return new float[ldak.K];
+		}
+	};
+
+	// The ranker of the reranked results, one per thread
+	private final ThreadLocal<TopKRanker> rankers = new ThreadLocal<TopKRanker>() {
+		protected TopKRanker initialValue() {
+			return new TopKRanker(maxHits);
+		}
+	};
+
+	/**
+	 * @param searcher The searcher to use
+	 * @param lda The LDA index
+	 * @param K Which LDA scenario to use (see LDAHelper.which())
+	 * @param maxHits The maximum number of documents to return for each query
+	 */
+	LDAQueryEngine(IndexSearcher searcher, LDAHelper lda, int K, int maxHits) {
+		this(searcher, lda, K, maxHits, false);
+	}
+
+	/**
+	 * As above; if twoPass is true, queries are executed the old way (see twoPassSearch()).
+	 */
+	LDAQueryEngine(IndexSearcher searcher, LDAHelper lda, int K, int maxHits, boolean twoPass) {
+		this.searcher = searcher;
+		this.twoPass = twoPass;
+		this.lda = lda;
+		this.ldak = lda.scens.get(lda.which(K));
+		this.modelVersion = lda.getVersion();
+		this.maxHits = maxHits;
+
+		// Build the term-topic index up front, rather than during the first query
+		ldak.getTermTopics();
+	}
+
+	/**
+	 * Keeps the topic vectors of queries in the given cache (or in none, if null), keyed
+	 * on the version of the LDA index (see LDAHelper.getVersion()).
+	 */
+	void setCache(QueryCache cache) {
+		this.cache = cache;
+	}
+
+	/**
+	 * Makes the topic vector of each query its theta, as estimated by the given
+	 * inferencer (which must be for the same scenario), or, if null, the sum of the
+	 * topic memberships of its terms.
+	 */
+	void setInferencer(TopicInferencer inferencer) {
+		this.inferencer = inferencer;
+	}
+
+	/**
+	 * Finds the top documents of each query by searching the given topic vector index
+	 * (which must be for the same scenario and index) with the given ef, or, if null, by
+	 * an LDAQuery.
+	 */
+	void setTopicVectorIndex(TopicVectorIndex vectorIndex, int ef) {
+		this.ef = ef;
+		this.vectorIndex = vectorIndex;
+	}
+
+	public QueryResult execute(String name, String query) throws Exception {
+		long t = System.nanoTime();
+		Metrics.QUERIES.increment();
+
+		// Make sure the query doesn't have numbers or punctuation, and isn't blank
+		QueryTokenizer tokens = QueryTokenizer.get();
+		if (!tokens.tokenize(query)){
+			Metrics.BLANK_QUERIES.increment();
+			return null;
+		}
+		Metrics.SANITIZE.since(t);
+		return execute(name, tokens);
+	}
+
+	/**
+	 * Runs a query that has already been tokenized (and is not blank), e.g., once for
+	 * several engines (see MultiKQueryEngine).
+	 */
+	QueryResult execute(String name, QueryTokenizer tokens) throws Exception {
+		long t;
+
+		// First, we need to find all the topics in the query: for each term, find out all topics that contain this term;
+		// Then, take the union of all in the topics of all the terms
+		// Then, search for the documents that contain any of those topics
+		float queryOpt[]    = queryScores.get();
+		int[] topics = new int[ldak.K];
+		int numTopics = queryVector(tokens, queryOpt, topics);
+
+		TopKRanker ranker = rankers.get();
+		TopicVectorIndex vectorIndex = this.vectorIndex;
+		if (vectorIndex != null){
+			t = System.nanoTime();
+			vectorIndex.search(queryOpt, maxHits, ef, ranker);
+			t = Metrics.SEARCH.since(t);
+			ranker.sort();
+			Metrics.RERANK.since(t);
+			Metrics.HITS.add(ranker.size());
+			String[] files = new String[ranker.size()];
+			float[] scores = new float[ranker.size()];
+			for (int i = 0; i < files.length; ++i){
+				files[i] = vectorIndex.label(ranker.doc(i));
+				scores[i] = ranker.score(i);
+			}
+			return new QueryResult(name, files, scores);
+		} else if (twoPass){
+			twoPassSearch(name, queryOpt, Arrays.copyOf(topics, numTopics), ranker);
+		} else {
+			// Score every document that has any of the query's topics by conditional
+			// probability, keeping the best maxHits
+			t = System.nanoTime();
+			ranker.reset(maxHits);
+			searcher.search(new LDAQuery(ldak.K, queryOpt, Arrays.copyOf(topics, numTopics)),
+					new TopKRanker.TopKCollector(ranker));
+			t = Metrics.SEARCH.since(t);
+			ranker.sort();
+			Metrics.RERANK.since(t);
+			logger.info("Found " + ranker.size() + " hits for " + name);
+		}
+		Metrics.HITS.add(ranker.size());
+
+		return QueryResult.fromRanker(name, ranker, searcher);
+	}
+
+	// The old way: a Payload query finds the best maxHits documents by their (averaged)
+	// payloads, which are then re-ranked by conditional probability
+	private void twoPassSearch(String name, float[] queryOpt, int[] topics, TopKRanker ranker) throws IOException {
+		BooleanQuery bquery = new BooleanQuery();
+		for (int i = 0; i < topics.length; ++i){
+			PayloadTermQuery fsq1 = new PayloadTermQuery(new Term(LDAQuery.PAYLOAD_FIELD_PREFIX+ldak.K, "p"+topics[i]), new AveragePayloadFunction(), false);
+			bquery.add(fsq1, Occur.SHOULD);
+		}
+
+		// Actually execute the query
+		long t = System.nanoTime();
+		TopDocs hits = searcher.search(bquery, maxHits);
+		t = Metrics.SEARCH.since(t);
+
+		logger.info("Found " +hits.totalHits + " hits for " + name);
+
+		// Rerank the results, based on the custom LDA scoring scheme
+		lda.reRank(searcher, hits, queryOpt, ldak.K, ranker);
+		Metrics.RERANK.since(t);
+	}
+
+	/**
+	 * Computes the topic vector of a (tokenized) query into queryOpt (of length K), from the
+	 * cache if possible, and zeroes the topics whose score is too low to matter. Returns
+	 * the number of topics that are left, whose ids are put at the start of topics.
+	 */
+	int queryVector(QueryTokenizer query, float[] queryOpt, int[] topics) {
+		long start = System.nanoTime();
+		QueryCache cache = this.cache;
+		if (cache == null){
+			queryTopics(query, queryOpt);
+		} else {
+			// (Keyed on the model's version, as CachingQueryEngine keys on the index's.) The
+			// sum of the terms' memberships does not depend on their order, so it is keyed on
+			// the sorted terms; a folded-in theta does (the inferencer is seeded from the
+			// terms, in order), so it is keyed on exactly the terms it is inferred from.
+			String key = "vector model=" + modelVersion + " K=" + ldak.K
+					+ (inferencer != null ? " foldIn\t" + join(query.trimmedTerms()) : "\t" + query.normalized());
+			float[] cached = cache.getVector(key);
+			if (cached != null){
+				System.arraycopy(cached, 0, queryOpt, 0, ldak.K);
+			} else {
+				queryTopics(query, queryOpt);
+				cache.putVector(key, queryOpt.clone());
+			}
+		}
+
+		// Keep the topics with a high enough score; the others are ignored entirely
+		int numTopics = 0;
+		for (int k = 0; k < ldak.K; ++k){
+			if (queryOpt[k] > 0.01f){
+				topics[numTopics++] = k;
+			} else {
+				queryOpt[k] = 0;
+			}
+		}
+		Metrics.TOPIC_VECTOR.since(start);
+		return numTopics;
+	}
+
+	// The given terms, separated by single spaces
+	private static String join(String[] terms) {
+		StringBuilder sb = new StringBuilder();
+		for (String term : terms){
+			if (sb.length() > 0){
+				sb.append(' ');
+			}
+			sb.append(term);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Computes the topic scores of a (tokenized) query: for each term, adds its membership
+	 * in each topic. (A term might not be in the vocabulary, due to vocab mismatch.) With
+	 * an inferencer, the scores are the query's folded-in theta instead.
+	 */
+	void queryTopics(QueryTokenizer query, float[] scores) {
+		TopicInferencer inferencer = this.inferencer;
+		if (inferencer != null){
+			float[] theta = inferencer.infer(query.trimmedTerms());
+			System.arraycopy(theta, 0, scores, 0, ldak.K);
+			return;
+		}
+		Arrays.fill(scores, 0);
+		int[] termIds = query.termIds(ldak);
+		for (int j = 0; j < query.size(); ++j){
+			if (termIds[j] >= 0){
+				ldak.addTermTopics(termIds[j], scores);
+			}
+		}
+	}
+}
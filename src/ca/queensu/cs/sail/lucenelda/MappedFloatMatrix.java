@@ -0,0 +1,69 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+MappedFloatMatrix.java
+
+A FloatMatrix whose values are read in place from a block of little-endian floats in a
+file (see LDAModelFile). The block is memory-mapped, so nothing is copied onto the heap
+and the OS page cache is shared between all processes that open the same model.
+
+A single MappedByteBuffer cannot exceed 2GB, so the block is mapped in chunks of whole
+rows.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+
+class MappedFloatMatrix implements FloatMatrix {
+
+	// The maximum number of bytes in a single mapped chunk
+	private static final long MAX_CHUNK_BYTES = 1L << 30;
+
+	private final int rows;
+	private final int cols;
+	private final int rowsPerChunk;
+	private final FloatBuffer[] chunks;
+
+	/**
+	 * Maps a rows x cols block of floats that starts at the given offset in the channel.
+	 * The channel may be closed afterwards; the mapping stays valid.
+	 */
+	MappedFloatMatrix(FileChannel channel, long offset, int rows, int cols) throws IOException {
+		this.rows = rows;
+		this.cols = cols;
+
+		long rowBytes = 4L * Math.max(cols, 1);
+		this.rowsPerChunk = (int) Math.max(1, Math.min(rows, MAX_CHUNK_BYTES / rowBytes));
+
+		int numChunks = (rows + rowsPerChunk - 1) / Math.max(rowsPerChunk, 1);
+		this.chunks = new FloatBuffer[numChunks];
+		for (int i = 0; i < numChunks; ++i){
+			int firstRow = i * rowsPerChunk;
+			int chunkRows = Math.min(rowsPerChunk, rows - firstRow);
+			chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+					offset + firstRow * 4L * cols, chunkRows * 4L * cols)
+					.order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+		}
+	}
+
+	public int rows() {
+		return rows;
+	}
+
+	public int cols() {
+		return cols;
+	}
+
+	public float get(int row, int col) {
+		return chunks[row / rowsPerChunk].get((row % rowsPerChunk) * cols + col);
+	}
+}
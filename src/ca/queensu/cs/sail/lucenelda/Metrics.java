@@ -0,0 +1,490 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+Metrics.java
+
+The process-wide timings and counters of the indexing and query pipelines, so that a slow
+run can be broken down by where its time went.
+
+Each phase (e.g., the search of a query, or the addDocument of a file) has a Timer: a
+latency histogram that counts the phase's events, and their total and largest time.
+Recording is lock-free (a few atomic increments), so the timers are shared by all
+threads, and can stay on in production. The histogram buckets are log-linear: four per
+power of two, so a percentile is accurate to within about 12%. Each counter (e.g., the
+number of hits, or of documents indexed) is a single atomic long.
+
+The phases and counters are:
+
+  query.loadModel      loading (deserializing) the LDA index
+  query.openIndex      opening the Lucene index
+  query.sanitize       stripping numbers and punctuation from a query
+  query.topicVector    computing the topic vector of a query
+  query.search         finding the matching documents, and scoring them
+  query.rerank         ranking (or re-ranking, or fusing) the matches
+  query.fileKeys       looking up the "file" key of each result (see FileKeyColumn)
+  query.write          writing the results of a query
+  query.execute        executing a query, from start to finish (not counting writing)
+  index.readFile       reading a file to be indexed
+  index.encodeTopics   encoding the topic fields of a file's document
+  index.addDocument    adding (or updating) a document in the IndexWriter
+  index.commit         committing (closing) the IndexWriter
+
+  query.queries, query.blankQueries, query.hits,
+  index.documents, index.bytes, index.deletedDocuments
+
+Times are since the process started (or reset()). At the end of a run, the tools write
+them out with --metrics (see writeTo(): JSON or CSV, by the file's extension). In
+long-running use (see QueryServer), they are also exposed through JMX, once
+registerMBean() is called, as the attributes of the MBean OBJECT_NAME: <phase>.count,
+.meanMs, .p50Ms, .p90Ms, .p99Ms and .maxMs of each phase, and each counter; its reset
+operation clears them.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+
+import org.apache.log4j.Logger;
+
+class Metrics {
+
+	private static final Logger logger = Logger.getRootLogger();
+
+	static final String OBJECT_NAME = "ca.queensu.cs.sail.lucenelda:type=Metrics";
+
+	// The percentiles reported for each phase
+	private static final double[] PERCENTILES = {50, 90, 99};
+
+	private static final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<String, Timer>();
+	private static final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<String, Counter>();
+
+	static final Timer LOAD_MODEL = timer("query.loadModel");
+	static final Timer OPEN_INDEX = timer("query.openIndex");
+	static final Timer SANITIZE = timer("query.sanitize");
+	static final Timer TOPIC_VECTOR = timer("query.topicVector");
+	static final Timer SEARCH = timer("query.search");
+	static final Timer RERANK = timer("query.rerank");
+	static final Timer FILE_KEYS = timer("query.fileKeys");
+	static final Timer WRITE = timer("query.write");
+	static final Timer EXECUTE = timer("query.execute");
+	static final Timer READ_FILE = timer("index.readFile");
+	static final Timer ENCODE_TOPICS = timer("index.encodeTopics");
+	static final Timer ADD_DOCUMENT = timer("index.addDocument");
+	static final Timer COMMIT = timer("index.commit");
+
+	static final Counter QUERIES = counter("query.queries");
+	static final Counter BLANK_QUERIES = counter("query.blankQueries");
+	static final Counter HITS = counter("query.hits");
+	static final Counter DOCUMENTS = counter("index.documents");
+	static final Counter BYTES = counter("index.bytes");
+	static final Counter DELETED_DOCUMENTS = counter("index.deletedDocuments");
+
+	private Metrics() {
+	}
+
+	/**
+	 * The latency histogram of one phase.
+	 */
+	static final class Timer {
+
+		// Values below 4 ns get a bucket each; above, four buckets per power of two, up
+		// to 2^63 ns
+		private static final int NUM_BUCKETS = 4 * 62;
+
+		final String name;
+		private final AtomicLongArray buckets = new AtomicLongArray(NUM_BUCKETS);
+		private final AtomicLong count = new AtomicLong();
+		private final AtomicLong totalNanos = new AtomicLong();
+		private final AtomicLong maxNanos = new AtomicLong();
+
+		private Timer(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Records one event that took the given time.
+		 */
+		void record(long nanos) {
+			if (nanos < 0){
+				nanos = 0;
+			}
+			buckets.incrementAndGet(bucket(nanos));
+			count.incrementAndGet();
+			totalNanos.addAndGet(nanos);
+			long max = maxNanos.get();
+			while (nanos > max && !maxNanos.compareAndSet(max, nanos)){
+				max = maxNanos.get();
+			}
+		}
+
+		/**
+		 * Records one event that started at the given System.nanoTime(), and returns the
+		 * time now, so that consecutive phases can be timed with one call each:
+		 *
+		 *   long t = System.nanoTime();
+		 *   ...
+		 *   t = Metrics.SANITIZE.since(t);
+		 *   ...
+		 *   t = Metrics.SEARCH.since(t);
+		 */
+		long since(long start) {
+			long now = System.nanoTime();
+			record(now - start);
+			return now;
+		}
+
+		long count() {
+			return count.get();
+		}
+
+		double meanMillis() {
+			long n = count.get();
+			return n == 0 ? 0 : totalNanos.get() / 1e6 / n;
+		}
+
+		double maxMillis() {
+			return maxNanos.get() / 1e6;
+		}
+
+		double totalMillis() {
+			return totalNanos.get() / 1e6;
+		}
+
+		/**
+		 * Returns the given percentile (0 to 100) of the recorded times, in milliseconds:
+		 * the middle of the bucket it falls in (but no more than the largest time).
+		 */
+		double percentileMillis(double percentile) {
+			long n = 0;
+			long[] snapshot = new long[NUM_BUCKETS];
+			for (int i = 0; i < NUM_BUCKETS; ++i){
+				snapshot[i] = buckets.get(i);
+				n += snapshot[i];
+			}
+			if (n == 0){
+				return 0;
+			}
+			long rank = Math.max(1, (long) Math.ceil(percentile / 100 * n));
+			long seen = 0;
+			for (int i = 0; i < NUM_BUCKETS; ++i){
+				seen += snapshot[i];
+				if (seen >= rank){
+					long low = lowerBound(i);
+					long high = i + 1 < NUM_BUCKETS ? lowerBound(i + 1) : Long.MAX_VALUE;
+					return Math.min(low + (high - low) / 2, maxNanos.get()) / 1e6;
+				}
+			}
+			return maxMillis();
+		}
+
+		private void reset() {
+			for (int i = 0; i < NUM_BUCKETS; ++i){
+				buckets.set(i, 0);
+			}
+			count.set(0);
+			totalNanos.set(0);
+			maxNanos.set(0);
+		}
+
+		// The bucket of a time: its exponent, and the two bits below the leading one
+		private static int bucket(long nanos) {
+			if (nanos < 4){
+				return (int) nanos;
+			}
+			int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+			return 4 * (exponent - 1) + (int) ((nanos >>> (exponent - 2)) & 3);
+		}
+
+		// The smallest time in the given bucket
+		private static long lowerBound(int bucket) {
+			if (bucket < 4){
+				return bucket;
+			}
+			int exponent = bucket / 4 + 1;
+			return (long) (4 + bucket % 4) << (exponent - 2);
+		}
+	}
+
+	/**
+	 * A count of something (e.g., of hits).
+	 */
+	static final class Counter {
+
+		final String name;
+		private final AtomicLong value = new AtomicLong();
+
+		private Counter(String name) {
+			this.name = name;
+		}
+
+		void add(long n) {
+			value.addAndGet(n);
+		}
+
+		void increment() {
+			value.incrementAndGet();
+		}
+
+		long get() {
+			return value.get();
+		}
+	}
+
+	/**
+	 * Returns the timer of the given phase, creating it the first time.
+	 */
+	static Timer timer(String name) {
+		Timer timer = timers.get(name);
+		if (timer == null){
+			Timer created = new Timer(name);
+			timer = timers.putIfAbsent(name, created);
+			if (timer == null){
+				timer = created;
+			}
+		}
+		return timer;
+	}
+
+	/**
+	 * Returns the given counter, creating it the first time.
+	 */
+	static Counter counter(String name) {
+		Counter counter = counters.get(name);
+		if (counter == null){
+			Counter created = new Counter(name);
+			counter = counters.putIfAbsent(name, created);
+			if (counter == null){
+				counter = created;
+			}
+		}
+		return counter;
+	}
+
+	/**
+	 * Clears every timer and counter.
+	 */
+	static void reset() {
+		for (Timer timer : timers.values()){
+			timer.reset();
+		}
+		for (Counter counter : counters.values()){
+			counter.value.set(0);
+		}
+	}
+
+	/**
+	 * Writes the timers of the phases that happened (and every counter) as JSON:
+	 *
+	 *   {"phases": {"query.search": {"count": 12, "totalMs": 3.2, "meanMs": 0.27,
+	 *     "p50Ms": 0.21, "p90Ms": 0.47, "p99Ms": 0.86, "maxMs": 0.91}, ...},
+	 *    "counters": {"query.hits": 5870, ...}}
+	 */
+	static void writeJSON(PrintWriter out) {
+		List<Timer> phases = usedTimers();
+		out.println("{");
+		out.println("  \"phases\": {");
+		for (int i = 0; i < phases.size(); ++i){
+			Timer timer = phases.get(i);
+			out.printf(Locale.ROOT, "    \"%s\": {\"count\": %d, \"totalMs\": %.3f, \"meanMs\": %.3f", timer.name,
+					timer.count(), timer.totalMillis(), timer.meanMillis());
+			for (double p : PERCENTILES){
+				out.printf(Locale.ROOT, ", \"p%.0fMs\": %.3f", p, timer.percentileMillis(p));
+			}
+			out.printf(Locale.ROOT, ", \"maxMs\": %.3f}%s%n", timer.maxMillis(), i + 1 < phases.size() ? "," : "");
+		}
+		out.println("  },");
+		out.println("  \"counters\": {");
+		Map<String, Counter> sorted = new TreeMap<String, Counter>(counters);
+		int i = 0;
+		for (Counter counter : sorted.values()){
+			out.printf("    \"%s\": %d%s%n", counter.name, counter.get(), ++i < sorted.size() ? "," : "");
+		}
+		out.println("  }");
+		out.println("}");
+	}
+
+	/**
+	 * Writes the timers of the phases that happened (and every counter) as CSV, with a
+	 * header line; a counter's value is in the count column.
+	 */
+	static void writeCSV(PrintWriter out) {
+		out.print("name,type,count,totalMs,meanMs");
+		for (double p : PERCENTILES){
+			out.printf(Locale.ROOT, ",p%.0fMs", p);
+		}
+		out.println(",maxMs");
+		for (Timer timer : usedTimers()){
+			out.printf(Locale.ROOT, "%s,phase,%d,%.3f,%.3f", timer.name, timer.count(), timer.totalMillis(), timer.meanMillis());
+			for (double p : PERCENTILES){
+				out.printf(Locale.ROOT, ",%.3f", timer.percentileMillis(p));
+			}
+			out.printf(Locale.ROOT, ",%.3f%n", timer.maxMillis());
+		}
+		for (Counter counter : new TreeMap<String, Counter>(counters).values()){
+			out.printf("%s,counter,%d,,", counter.name, counter.get());
+			for (int i = 0; i < PERCENTILES.length; ++i){
+				out.print(",");
+			}
+			out.println(",");
+		}
+	}
+
+	/**
+	 * Writes the timers and counters to the given file: as CSV if its name ends with
+	 * ".csv", and as JSON otherwise. The file's directory is created if need be.
+	 */
+	static void writeTo(File file) throws IOException {
+		File dir = file.getAbsoluteFile().getParentFile();
+		if (dir != null && !dir.exists()){
+			dir.mkdirs();
+		}
+		PrintWriter out = new PrintWriter(new FileWriter(file));
+		try {
+			if (file.getName().toLowerCase().endsWith(".csv")){
+				writeCSV(out);
+			} else {
+				writeJSON(out);
+			}
+		} finally {
+			out.close();
+		}
+		logger.info("Wrote the timings and counters to " + file);
+	}
+
+	// The timers with at least one event, by name
+	private static List<Timer> usedTimers() {
+		List<Timer> used = new ArrayList<Timer>();
+		for (Timer timer : new TreeMap<String, Timer>(timers).values()){
+			if (timer.count() > 0){
+				used.add(timer);
+			}
+		}
+		return used;
+	}
+
+	/**
+	 * Registers the MBean OBJECT_NAME with the platform MBean server (once; later calls
+	 * do nothing).
+	 */
+	static synchronized void registerMBean() {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(OBJECT_NAME);
+			if (!server.isRegistered(name)){
+				server.registerMBean(new MBean(), name);
+			}
+		} catch (JMException e) {
+			logger.warn("Cannot register the metrics MBean: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * The JMX view of the timers and counters. Its attributes are built anew each time
+	 * they are listed, since phases and counters can be added at any time.
+	 */
+	private static class MBean implements DynamicMBean {
+
+		private static final String[] STATS = {"count", "meanMs", "p50Ms", "p90Ms", "p99Ms", "maxMs"};
+
+		public Object getAttribute(String attribute) throws AttributeNotFoundException {
+			Counter counter = counters.get(attribute);
+			if (counter != null){
+				return counter.get();
+			}
+			int dot = attribute.lastIndexOf('.');
+			Timer timer = dot < 0 ? null : timers.get(attribute.substring(0, dot));
+			if (timer != null){
+				String stat = attribute.substring(dot + 1);
+				if (stat.equals("count")){
+					return timer.count();
+				} else if (stat.equals("meanMs")){
+					return timer.meanMillis();
+				} else if (stat.equals("maxMs")){
+					return timer.maxMillis();
+				}
+				for (double p : PERCENTILES){
+					if (stat.equals(String.format(Locale.ROOT, "p%.0fMs", p))){
+						return timer.percentileMillis(p);
+					}
+				}
+			}
+			throw new AttributeNotFoundException(attribute);
+		}
+
+		public AttributeList getAttributes(String[] attributes) {
+			AttributeList list = new AttributeList();
+			for (String attribute : attributes){
+				try {
+					list.add(new Attribute(attribute, getAttribute(attribute)));
+				} catch (AttributeNotFoundException e) {
+					// Left out, as JMX expects
+				}
+			}
+			return list;
+		}
+
+		public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+			throw new AttributeNotFoundException("The metrics are read-only");
+		}
+
+		public AttributeList setAttributes(AttributeList attributes) {
+			return new AttributeList();
+		}
+
+		public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+			if (actionName.equals("reset")){
+				reset();
+				return null;
+			}
+			throw new ReflectionException(new NoSuchMethodException(actionName));
+		}
+
+		public MBeanInfo getMBeanInfo() {
+			List<MBeanAttributeInfo> attributes = new ArrayList<MBeanAttributeInfo>();
+			for (String name : new TreeMap<String, Timer>(timers).keySet()){
+				for (String stat : STATS){
+					attributes.add(new MBeanAttributeInfo(name + "." + stat, stat.equals("count") ? "long" : "double",
+							stat + " of phase " + name, true, false, false));
+				}
+			}
+			for (String name : new TreeMap<String, Counter>(counters).keySet()){
+				attributes.add(new MBeanAttributeInfo(name, "long", "counter " + name, true, false, false));
+			}
+			MBeanOperationInfo reset = new MBeanOperationInfo("reset", "Clears every timer and counter",
+					null, "void", MBeanOperationInfo.ACTION);
+			return new MBeanInfo(Metrics.class.getName(), "Timings and counters of the indexing and query pipelines",
+					attributes.toArray(new MBeanAttributeInfo[attributes.size()]), null,
+					new MBeanOperationInfo[] {reset}, null);
+		}
+	}
+}
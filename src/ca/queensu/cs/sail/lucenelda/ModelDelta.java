@@ -0,0 +1,328 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+ModelDelta.java
+
+The changes that updates (see IndexUpdater) have made to the theta of an LDA index (see
+LDAModelFile) since it was written, kept in a file next to it (the model's name plus
+".delta"), so that an update does not have to rewrite the whole model. For each
+scenario, the delta holds the folded-in row of every file that was added or modified,
+and the name of every file that was deleted.
+
+When the model is opened (see LDAHelper.load()), its delta is applied to it: the rows of
+the changed files are appended to theta, after the model's own D rows, and the file
+table is overridden, so that the name of a changed file maps to its new row, and that of
+a deleted file to none. The rows they replace stay in the model, unused.
+
+An update rewrites the delta (the changes of the earlier updates, and its own) rather
+than the model, so it costs time in proportion to the files changed since the model was
+written, not to the whole corpus. Once the delta holds more than a fraction of the
+model's rows, the update writes the whole model again instead. Writing a model (see
+LDAModelFile.write()) deletes its delta.
+
+A delta records the checksum of the header of the model it applies to, so one that
+is left behind by a model that has since been rewritten is ignored. All values are
+big-endian:
+
+  header      "LDAD", int version, int modelCrc, int numScenarios
+  scenarios   for each scenario of the model, in order: int K, int numRows,
+              int numDeleted, numRows x (modified UTF-8 file name, K floats),
+              numDeleted x (modified UTF-8 file name)
+  crc         long CRC32 of all of the above
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import org.apache.log4j.Logger;
+
+class ModelDelta {
+
+	private static final Logger logger = Logger.getRootLogger();
+
+	static final byte[] MAGIC = {'L', 'D', 'A', 'D'};
+	static final int VERSION = 1;
+
+	final int K;
+
+	// The checksum of the file the delta was read from (see read()), or 0
+	long crc;
+
+	// The folded-in row of each changed file, in the order they were first changed
+	private final LinkedHashMap<String, float[]> rows = new LinkedHashMap<String, float[]>();
+
+	// The names of the deleted files
+	private final Set<String> deleted = new LinkedHashSet<String>();
+
+	// Once applied to a scenario: the row of each changed file, and -1 for each deleted one
+	private Map<String, Integer> fileIds;
+
+	/**
+	 * An empty delta, for the scenario with K topics.
+	 */
+	ModelDelta(int K) {
+		this.K = K;
+	}
+
+	/**
+	 * A copy of the given delta, which may be changed without changing it.
+	 */
+	ModelDelta(ModelDelta other) {
+		this.K = other.K;
+		this.rows.putAll(other.rows);
+		this.deleted.addAll(other.deleted);
+	}
+
+	/**
+	 * Returns the file that holds the delta of the given model file.
+	 */
+	static File fileFor(File modelFile) {
+		return new File(modelFile.getPath() + ".delta");
+	}
+
+	/**
+	 * Records the (new) row of theta of a changed file.
+	 */
+	void put(String fileName, float[] row) {
+		deleted.remove(fileName);
+		rows.put(fileName, row);
+	}
+
+	/**
+	 * Records that a file was deleted.
+	 */
+	void delete(String fileName) {
+		rows.remove(fileName);
+		deleted.add(fileName);
+	}
+
+	// The number of rows
+	int numRows() {
+		return rows.size();
+	}
+
+	// The number of rows and deleted files
+	int size() {
+		return rows.size() + deleted.size();
+	}
+
+	/**
+	 * The id of the given file once this delta is applied to its scenario: the row of a
+	 * changed file, -1 for a deleted one, or null if the delta does not hold the file.
+	 */
+	Integer getFileId(String fileName) {
+		return fileIds.get(fileName);
+	}
+
+	// Once applied to a scenario: the id of every file the delta holds (see getFileId())
+	Map<String, Integer> fileIds() {
+		return Collections.unmodifiableMap(fileIds);
+	}
+
+
+	/**
+	 * Applies the delta of each scenario, if there is one, to the given (memory-mapped)
+	 * model (see the top of this file).
+	 *
+	 * @param deltas The delta of each scenario of the model, in order (see read())
+	 * @throws IOException If the deltas do not match the scenarios
+	 */
+	static void applyTo(LDAHelper lda, ModelDelta[] deltas) throws IOException {
+		if (deltas.length != lda.scens.size()){
+			throw new IOException("The LDA model has " + lda.scens.size() + " scenario(s), but its delta has "
+					+ deltas.length);
+		}
+		for (int i = 0; i < deltas.length; ++i){
+			deltas[i].applyTo(lda.scens.get(i));
+		}
+	}
+
+	private void applyTo(LDAHelper.LDAK ldak) throws IOException {
+		if (ldak.K != K){
+			throw new IOException("The LDA model has a scenario with K=" + ldak.K + " where its delta has K=" + K);
+		}
+		float[][] newRows = rows.values().toArray(new float[rows.size()][]);
+		fileIds = new HashMap<String, Integer>();
+		int d = ldak.D;
+		for (String fileName : rows.keySet()){
+			fileIds.put(fileName, d++);
+		}
+		for (String fileName : deleted){
+			fileIds.put(fileName, -1);
+		}
+
+		SparseTheta sparse = ldak.getSparseTheta();
+		if (sparse != null){
+			ldak.thetaStore = sparse.withRows(newRows);
+		} else {
+			ldak.thetaStore = new AppendedRows(ldak.thetaStore, newRows);
+		}
+		ldak.D += newRows.length;
+		ldak.delta = this;
+	}
+
+
+	/**
+	 * Reads the delta of the given model file.
+	 *
+	 * @return The delta of each scenario, or null if the model has no delta, or its
+	 *         delta is stale (is for an earlier version of the model)
+	 */
+	static ModelDelta[] read(File modelFile) throws IOException {
+		File file = fileFor(modelFile);
+		if (!file.exists()){
+			return null;
+		}
+		CheckedInputStream checked = new CheckedInputStream(
+				new BufferedInputStream(new FileInputStream(file), 1 << 16), new CRC32());
+		DataInputStream in = new DataInputStream(checked);
+		try {
+			byte[] magic = new byte[MAGIC.length];
+			in.readFully(magic);
+			if (!Arrays.equals(magic, MAGIC)){
+				throw new IOException(file + " is not an LDA model delta");
+			}
+			int version = in.readInt();
+			if (version != VERSION){
+				throw new IOException(file + " has unsupported version " + version + " (expected " + VERSION + ")");
+			}
+			if (in.readInt() != LDAModelFile.headerCrc(modelFile)){
+				logger.warn("Ignoring " + file + ", which is for an earlier version of " + modelFile);
+				return null;
+			}
+			ModelDelta[] deltas = new ModelDelta[in.readInt()];
+			for (int i = 0; i < deltas.length; ++i){
+				ModelDelta delta = new ModelDelta(in.readInt());
+				int numRows = in.readInt();
+				int numDeleted = in.readInt();
+				for (int r = 0; r < numRows; ++r){
+					String fileName = in.readUTF();
+					float[] row = new float[delta.K];
+					for (int k = 0; k < delta.K; ++k){
+						row[k] = in.readFloat();
+					}
+					delta.rows.put(fileName, row);
+				}
+				for (int r = 0; r < numDeleted; ++r){
+					delta.deleted.add(in.readUTF());
+				}
+				deltas[i] = delta;
+			}
+			long crc = checked.getChecksum().getValue();
+			if (in.readLong() != crc){
+				throw new IOException(file + " is corrupt (checksum mismatch)");
+			}
+			for (ModelDelta delta : deltas){
+				delta.crc = crc;
+			}
+			return deltas;
+		} finally {
+			in.close();
+		}
+	}
+
+
+	/**
+	 * Writes the given deltas, one per scenario, as the delta of the given model file (via
+	 * a temporary file, so that a reader never sees a partial delta).
+	 */
+	static void write(List<ModelDelta> deltas, File modelFile) throws IOException {
+		File file = fileFor(modelFile);
+		File tmp = new File(file.getPath() + ".tmp");
+		CheckedOutputStream checked = new CheckedOutputStream(
+				new BufferedOutputStream(new FileOutputStream(tmp), 1 << 16), new CRC32());
+		DataOutputStream out = new DataOutputStream(checked);
+		int numRows = 0;
+		try {
+			out.write(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(LDAModelFile.headerCrc(modelFile));
+			out.writeInt(deltas.size());
+			for (ModelDelta delta : deltas){
+				out.writeInt(delta.K);
+				out.writeInt(delta.rows.size());
+				out.writeInt(delta.deleted.size());
+				for (Map.Entry<String, float[]> e : delta.rows.entrySet()){
+					out.writeUTF(e.getKey());
+					for (float weight : e.getValue()){
+						out.writeFloat(weight);
+					}
+				}
+				for (String fileName : delta.deleted){
+					out.writeUTF(fileName);
+				}
+				numRows += delta.rows.size();
+			}
+			out.flush();
+			out.writeLong(checked.getChecksum().getValue());
+		} finally {
+			out.close();
+		}
+		if (!tmp.renameTo(file) && !(file.delete() && tmp.renameTo(file))){
+			throw new IOException("Cannot replace " + file + " with " + tmp);
+		}
+		logger.info("Wrote LDA model delta with " + numRows + " row(s) to " + file);
+	}
+
+
+	/**
+	 * Deletes the delta of the given model file, if it has one.
+	 */
+	static void delete(File modelFile) throws IOException {
+		File file = fileFor(modelFile);
+		if (file.exists() && !file.delete()){
+			throw new IOException("Cannot delete " + file);
+		}
+	}
+
+
+	// A matrix with rows appended to it
+	private static class AppendedRows implements FloatMatrix {
+
+		private final FloatMatrix base;
+		private final int baseRows;
+		private final float[][] rows;
+
+		AppendedRows(FloatMatrix base, float[][] rows) {
+			this.base = base;
+			this.baseRows = base.rows();
+			this.rows = rows;
+		}
+
+		public int rows() {
+			return baseRows + rows.length;
+		}
+
+		public int cols() {
+			return base.cols();
+		}
+
+		public float get(int row, int col) {
+			return row < baseRows ? base.get(row, col) : rows[row - baseRows][col];
+		}
+	}
+}
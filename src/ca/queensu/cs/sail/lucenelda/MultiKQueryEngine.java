@@ -0,0 +1,96 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+MultiKQueryEngine.java
+
+Executes each query against several LDA scenarios (Ks) at once, e.g., to compare the Ks
+of a model-selection sweep in one run: the query is sanitized and tokenized once, and
+its topic vector is then built, and the index searched, with the engine of each
+scenario in turn (see LDAQueryEngine.execute(String, QueryTokenizer)).
+
+The result of a query is a Results, which holds the result of each scenario; a Router
+(the Output of a QueryExecutor) hands each of those to the Sink of its scenario. So the
+queries still run concurrently on the executor's threads, sharing one searcher and LDA
+index, and every scenario's results are written in the usual order. The scenarios of
+one query are searched one after the other, on the query's thread, since they share
+its tokenizer (see QueryTokenizer.get()).
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.IOException;
+
+class MultiKQueryEngine implements QueryExecutor.Executable<MultiKQueryEngine.Results> {
+
+	// The engine of each scenario
+	private final LDAQueryEngine[] engines;
+
+	/**
+	 * The results of one query, one per scenario, in the order of the engines.
+	 */
+	static class Results {
+
+		// The name of the query
+		final String name;
+
+		final QueryResult[] perScenario;
+
+		Results(String name, QueryResult[] perScenario) {
+			this.name = name;
+			this.perScenario = perScenario;
+		}
+	}
+
+	/**
+	 * Writes the result of each scenario to that scenario's sink.
+	 */
+	static class Router implements QueryExecutor.Output<Results> {
+
+		private final QueryExecutor.Sink[] sinks;
+
+		/**
+		 * @param sinks The sink of each scenario, in the order of the engines
+		 */
+		Router(QueryExecutor.Sink[] sinks) {
+			this.sinks = sinks;
+		}
+
+		public void write(Results result) throws IOException {
+			QueryResult[] perScenario = result.perScenario;
+			for (int i = 0; i < sinks.length; ++i){
+				sinks[i].write(perScenario[i]);
+			}
+		}
+	}
+
+	/**
+	 * @param engines The engine of each scenario
+	 */
+	MultiKQueryEngine(LDAQueryEngine[] engines) {
+		this.engines = engines;
+	}
+
+	public Results execute(String name, String query) throws Exception {
+		long t = System.nanoTime();
+		Metrics.QUERIES.increment();
+
+		// Make sure the query doesn't have numbers or punctuation, and isn't blank
+		QueryTokenizer tokens = QueryTokenizer.get();
+		if (!tokens.tokenize(query)){
+			Metrics.BLANK_QUERIES.increment();
+			return null;
+		}
+		Metrics.SANITIZE.since(t);
+
+		QueryResult[] perScenario = new QueryResult[engines.length];
+		for (int i = 0; i < engines.length; ++i){
+			perScenario[i] = engines[i].execute(name, tokens);
+		}
+		return new Results(name, perScenario);
+	}
+}
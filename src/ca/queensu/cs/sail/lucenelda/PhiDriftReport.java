@@ -0,0 +1,265 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+PhiDriftReport.java
+
+(Invoked from command line, or via main() method.)
+
+Measures how much quantizing phi (see QuantizedPhi) changes the LDA rankings, so that
+the memory/accuracy trade-off can be chosen before an index is built with
+--phiEncoding. Every query in the given directory is run against the given index and LDA
+index, first with phi at full precision, and then with phi quantized with each of the
+given encodings. For each encoding, the report gives:
+
+* the size of phi
+* overlap@N: the share of the full-precision top N documents that are still in the
+  top N, averaged over the queries
+* identical@N: the share of queries whose top N documents are the same, in the same order
+* rank shift: the mean absolute change in rank of the full-precision top N documents
+  (a document that drops out of the results counts as moving to the end of the list)
+* the time per query
+
+The LDA index should have been built at full precision (otherwise, the baseline is
+itself quantized).
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.log4j.BasicConfigurator;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.store.NIOFSDirectory;
+
+import com.martiansoftware.jsap.FlaggedOption;
+import com.martiansoftware.jsap.JSAP;
+import com.martiansoftware.jsap.JSAPResult;
+import com.martiansoftware.jsap.Switch;
+import com.martiansoftware.jsap.UnflaggedOption;
+
+public class PhiDriftReport {
+
+	// The same as the query tools
+	private static final int MAX_HITS = 500;
+
+	private static final Logger logger = Logger.getRootLogger();
+
+	public static void main(String[] args) throws Exception {
+
+		// Set up the Apache log4j logger, only if we need to (another class or test case or ant
+		// may have already set up the logger.)
+		if (!logger.getAllAppenders().hasMoreElements()) {
+			BasicConfigurator.configure();
+			logger.setLevel(Level.INFO);
+		}
+
+		JSAP jsap = new JSAP();
+
+		UnflaggedOption opt0 = new UnflaggedOption("indexDir").setStringParser(
+				JSAP.STRING_PARSER).setRequired(true);
+		opt0.setHelp("The directory containing the pre-build Lucene index.");
+
+		UnflaggedOption opt0a = new UnflaggedOption("LDAIndexDir").setStringParser(
+				JSAP.STRING_PARSER).setRequired(true);
+		opt0a.setHelp("The directory containing the pre-build (full-precision) LDA index.");
+
+		UnflaggedOption opt1 = new UnflaggedOption("queryDir").setStringParser(
+				JSAP.STRING_PARSER).setRequired(true);
+		opt1.setHelp("The input directory containing queries to run against the specified index.");
+
+		FlaggedOption opt2 = new FlaggedOption("K")
+				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+				.setLongFlag("K").setDefault("0");
+		opt2.setHelp("If multiple LDA configuration were run (i.e., multiple Ks), then specify which one to use."
+				+ "Default: the lowest K.");
+
+		FlaggedOption opt3 = new FlaggedOption("encodings")
+				.setStringParser(JSAP.STRING_PARSER).setRequired(false)
+				.setList(true).setListSeparator(',')
+				.setLongFlag("encodings").setDefault("half,byte");
+		opt3.setHelp("The encodings of phi to compare against full precision. Default: half,byte.");
+
+		FlaggedOption opt4 = new FlaggedOption("depth")
+				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+				.setLongFlag("depth").setDefault("10");
+		opt4.setHelp("The number of top documents (N) of each query to compare. Default: 10.");
+
+		FlaggedOption opt5 = new FlaggedOption("threads")
+				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+				.setLongFlag("threads").setDefault("0");
+		opt5.setHelp("The number of queries to execute concurrently. Default: one per available processor.");
+
+		Switch sw0 = new Switch("help").setDefault("false").setLongFlag("help");
+		sw0.setHelp("Prints this message.");
+
+		jsap.registerParameter(sw0);
+		jsap.registerParameter(opt0);
+		jsap.registerParameter(opt0a);
+		jsap.registerParameter(opt1);
+		jsap.registerParameter(opt2);
+		jsap.registerParameter(opt3);
+		jsap.registerParameter(opt4);
+		jsap.registerParameter(opt5);
+
+		// check whether the command line was valid, and if it wasn't,
+		// display usage information and exit.
+		JSAPResult config = jsap.parse(args);
+		if (!config.success()) {
+			for (java.util.Iterator<?> errs = config.getErrorMessageIterator(); errs
+					.hasNext();) {
+				logger.error("Error: " + errs.next());
+			}
+			displayHelp(config, jsap);
+			return;
+		}
+
+		if (config.getBoolean("help")) {
+			displayHelp(config, jsap);
+			return;
+		}
+
+		int K = config.getInt("K");
+		int depth = config.getInt("depth");
+		File queryDir = new File(config.getString("queryDir"));
+		QueryExecutor executor = new QueryExecutor(config.getInt("threads"), false);
+
+		LDAHelper lda = LDAHelper.load(config.getString("LDAIndexDir"));
+		LDAHelper.LDAK ldak;
+		try {
+			ldak = lda.scens.get(lda.which(K));
+		} catch (IllegalArgumentException e) {
+			logger.error("Error: " + e.getMessage());
+			return;
+		}
+		if (ldak.phiStore instanceof QuantizedPhi){
+			logger.warn("The LDA index is already quantized; the baseline is not full precision");
+		}
+
+		IndexReader reader = IndexReader.open(NIOFSDirectory.open(new File(config.getString("indexDir"))), true);
+		try {
+			IndexSearcher searcher = new IndexSearcher(reader);
+
+			// (The first run also loads the topic vector columns, so it is not timed)
+			QueryEngine engine = new LDAQueryEngine(searcher, lda, K, MAX_HITS);
+			run(executor, queryDir, engine);
+			long start = System.nanoTime();
+			Map<String, QueryResult> baseline = run(executor, queryDir, engine);
+			double baselineSeconds = (System.nanoTime() - start) / 1e9;
+
+			StringBuilder report = new StringBuilder();
+			report.append(String.format("Phi quantization drift for K=%d over %d queries (N=%d)%n", ldak.K, baseline.size(), depth));
+			report.append(String.format("%-8s %10s %12s %13s %11s %10s%n",
+					"encoding", "phi MB", "overlap@" + depth, "identical@" + depth, "rank shift", "ms/query"));
+			report.append(String.format("%-8s %10.1f %12.4f %13.4f %11.3f %10.3f%n", "float",
+					4.0 * ldak.K * ldak.W / (1 << 20), 1.0, 1.0, 0.0, 1000 * baselineSeconds / Math.max(1, baseline.size())));
+
+			for (String name : config.getStringArray("encodings")){
+				QuantizedPhi.Encoding encoding = QuantizedPhi.Encoding.parse(name);
+				if (encoding == null){
+					continue;
+				}
+				LDAHelper quantized = lda.withQuantizedPhi(K, encoding);
+				LDAHelper.LDAK qldak = quantized.scens.get(quantized.which(K));
+
+				engine = new LDAQueryEngine(searcher, quantized, K, MAX_HITS);
+				start = System.nanoTime();
+				Map<String, QueryResult> results = run(executor, queryDir, engine);
+				double seconds = (System.nanoTime() - start) / 1e9;
+
+				double[] drift = compare(baseline, results, depth);
+				report.append(String.format("%-8s %10.1f %12.4f %13.4f %11.3f %10.3f%n", encoding.name().toLowerCase(),
+						((QuantizedPhi) qldak.phiStore).bytes() / (double) (1 << 20), drift[0], drift[1], drift[2],
+						1000 * seconds / Math.max(1, baseline.size())));
+			}
+			System.out.print(report);
+		} finally {
+			reader.close();
+		}
+	}
+
+
+	// Runs every query in the directory, and returns the results by query name
+	static Map<String, QueryResult> run(QueryExecutor executor, File queryDir, QueryEngine engine) throws Exception {
+		final Map<String, QueryResult> results = new HashMap<String, QueryResult>();
+		executor.run(queryDir, engine, new QueryExecutor.Sink() {
+			public void write(QueryResult result) throws IOException {
+				results.put(result.name, result);
+			}
+		});
+		return results;
+	}
+
+
+	/**
+	 * Compares the top N documents of each query against the baseline. Returns the mean
+	 * overlap@N, the share of identical top Ns, and the mean absolute rank shift.
+	 */
+	static double[] compare(Map<String, QueryResult> baseline, Map<String, QueryResult> results, int N) {
+		double overlap = 0;
+		double identical = 0;
+		double shift = 0;
+		int numQueries = 0;
+		int numShifts = 0;
+		for (Map.Entry<String, QueryResult> e : baseline.entrySet()){
+			QueryResult base = e.getValue();
+			QueryResult other = results.get(e.getKey());
+			int n = Math.min(N, base.size());
+			if (n == 0){
+				continue;
+			}
+			++numQueries;
+
+			// The rank of each document in the other results
+			Map<String, Integer> ranks = new HashMap<String, Integer>();
+			int otherSize = other == null ? 0 : other.size();
+			for (int i = 0; i < otherSize; ++i){
+				if (!ranks.containsKey(other.files[i])){
+					ranks.put(other.files[i], i);
+				}
+			}
+
+			int inTop = 0;
+			boolean same = otherSize >= n;
+			for (int i = 0; i < n; ++i){
+				Integer rank = ranks.get(base.files[i]);
+				int r = rank == null ? Math.max(otherSize, base.size()) : rank;
+				if (r < n){
+					++inTop;
+				}
+				if (r != i){
+					same = false;
+				}
+				shift += Math.abs(r - i);
+				++numShifts;
+			}
+			overlap += inTop / (double) n;
+			identical += same ? 1 : 0;
+		}
+		return new double[] {
+				overlap / Math.max(1, numQueries),
+				identical / Math.max(1, numQueries),
+				shift / Math.max(1, numShifts)};
+	}
+
+
+	/* Use JSAP to display command-line usage information */
+	private static void displayHelp(JSAPResult config, JSAP jsap) {
+		System.err.println();
+		System.err.println("Usage: java " + PhiDriftReport.class.getName());
+		System.err.println("                " + jsap.getUsage());
+		System.err.println();
+		System.err.println(jsap.getHelp());
+		System.err.println();
+	}
+}
@@ -0,0 +1,311 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+QuantizedPhi.java
+
+The phi matrix (K x W term memberships, topic-major) of one LDA scenario, stored with
+fewer bits per weight:
+
+* HALF: IEEE 754 half-precision floats (2 bytes per weight; about 3 significant digits)
+* BYTE: unsigned 8-bit codes with a scale per topic (1 byte per weight): weight
+  w of topic k is stored as round(w / scale[k]), where scale[k] is the largest weight
+  of topic k divided by 255
+
+The query path only uses phi to build the topic vector of a query, and the term-topic
+index (see TermTopicIndex) keeps the same codes, so a quantized phi is also what query
+scoring reads. PhiDriftReport measures how much the rankings change.
+
+The codes are held in ByteBuffers of whole rows, either on the heap or memory-mapped
+from a model file (see LDAModelFile).
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+import org.apache.log4j.Logger;
+
+class QuantizedPhi implements FloatMatrix {
+
+	private static final Logger logger = Logger.getRootLogger();
+
+	enum Encoding {
+		HALF(2), BYTE(1);
+
+		// The number of bytes per weight
+		final int bytes;
+
+		Encoding(int bytes) {
+			this.bytes = bytes;
+		}
+
+		/**
+		 * Parses "half" or "byte" (in any case); returns null for "float", which means
+		 * that phi is not quantized.
+		 */
+		static Encoding parse(String name) {
+			if (name.equalsIgnoreCase("float")){
+				return null;
+			}
+			for (Encoding e : values()){
+				if (e.name().equalsIgnoreCase(name)){
+					return e;
+				}
+			}
+			throw new IllegalArgumentException("Unknown phi encoding: " + name + " (expected float, half or byte)");
+		}
+	}
+
+	// The maximum number of bytes in a single buffer
+	private static final long MAX_CHUNK_BYTES = 1L << 30;
+
+	// The float value of every half-precision bit pattern
+	static final float[] HALF_TO_FLOAT = new float[1 << 16];
+	static {
+		for (int h = 0; h < HALF_TO_FLOAT.length; ++h){
+			HALF_TO_FLOAT[h] = halfToFloat((short) h);
+		}
+	}
+
+	final Encoding encoding;
+	final int K;
+	final int W;
+
+	// For BYTE: the scale of each topic (null for HALF)
+	final float[] scales;
+
+	private final int rowsPerChunk;
+	private final ByteBuffer[] chunks;
+
+	// The largest and total absolute error of the rows set so far
+	private double maxError = 0;
+	private double sumError = 0;
+
+	private QuantizedPhi(Encoding encoding, int K, int W, float[] scales, ByteBuffer[] chunks, int rowsPerChunk) {
+		this.encoding = encoding;
+		this.K = K;
+		this.W = W;
+		this.scales = scales;
+		this.chunks = chunks;
+		this.rowsPerChunk = rowsPerChunk;
+	}
+
+	/**
+	 * Allocates an empty (all 0) K x W matrix on the heap, to be filled by setRow().
+	 */
+	static QuantizedPhi allocate(Encoding encoding, int K, int W) {
+		int rowsPerChunk = rowsPerChunk(encoding, K, W);
+		ByteBuffer[] chunks = new ByteBuffer[(K + rowsPerChunk - 1) / rowsPerChunk];
+		for (int i = 0; i < chunks.length; ++i){
+			int chunkRows = Math.min(rowsPerChunk, K - i * rowsPerChunk);
+			chunks[i] = ByteBuffer.allocate(chunkRows * W * encoding.bytes).order(ByteOrder.LITTLE_ENDIAN);
+		}
+		return new QuantizedPhi(encoding, K, W, encoding == Encoding.BYTE ? new float[K] : null, chunks, rowsPerChunk);
+	}
+
+	/**
+	 * Quantizes a full-precision phi matrix, and logs the memory saved and the error.
+	 */
+	static QuantizedPhi quantize(float[][] phi, Encoding encoding) {
+		QuantizedPhi q = allocate(encoding, phi.length, phi.length > 0 ? phi[0].length : 0);
+		for (int k = 0; k < phi.length; ++k){
+			q.setRow(k, phi[k]);
+		}
+		q.logSummary();
+		return q;
+	}
+
+	static QuantizedPhi quantize(FloatMatrix phi, Encoding encoding) {
+		QuantizedPhi q = allocate(encoding, phi.rows(), phi.cols());
+		float[] row = new float[phi.cols()];
+		for (int k = 0; k < phi.rows(); ++k){
+			for (int w = 0; w < row.length; ++w){
+				row[w] = phi.get(k, w);
+			}
+			q.setRow(k, row);
+		}
+		q.logSummary();
+		return q;
+	}
+
+	/**
+	 * Maps a quantized matrix written by LDAModelFile (the scales, for BYTE, then the
+	 * codes, row-major), starting at the given offset. The
+	 * channel may be closed afterwards; the mapping stays valid.
+	 */
+	static QuantizedPhi map(FileChannel channel, long offset, Encoding encoding, int K, int W) throws IOException {
+		float[] scales = null;
+		if (encoding == Encoding.BYTE){
+			scales = new float[K];
+			channel.map(FileChannel.MapMode.READ_ONLY, offset, 4L * K)
+					.order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(scales);
+		}
+		long pos = offset + headerBytes(encoding, K);
+		int rowsPerChunk = rowsPerChunk(encoding, K, W);
+		ByteBuffer[] chunks = new ByteBuffer[(K + rowsPerChunk - 1) / rowsPerChunk];
+		for (int i = 0; i < chunks.length; ++i){
+			int chunkRows = Math.min(rowsPerChunk, K - i * rowsPerChunk);
+			long bytes = (long) chunkRows * W * encoding.bytes;
+			chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, pos, bytes).order(ByteOrder.LITTLE_ENDIAN);
+			pos += bytes;
+		}
+		return new QuantizedPhi(encoding, K, W, scales, chunks, rowsPerChunk);
+	}
+
+	// The number of bytes before the codes in a model file block: the scales, for BYTE
+	static long headerBytes(Encoding encoding, int K) {
+		return encoding == Encoding.BYTE ? 4L * K : 0;
+	}
+
+	// The number of bytes of a model file block
+	static long blockBytes(Encoding encoding, int K, int W) {
+		return headerBytes(encoding, K) + (long) K * W * encoding.bytes;
+	}
+
+	private static int rowsPerChunk(Encoding encoding, int K, int W) {
+		long rowBytes = (long) Math.max(W, 1) * encoding.bytes;
+		return (int) Math.max(1, Math.min(Math.max(K, 1), MAX_CHUNK_BYTES / rowBytes));
+	}
+
+	/**
+	 * Quantizes the given (full-precision) row of topic k. Different rows may be set
+	 * by different threads at once.
+	 */
+	void setRow(int k, float[] row) {
+		ByteBuffer chunk = chunks[k / rowsPerChunk];
+		int base = (k % rowsPerChunk) * W;
+		if (encoding == Encoding.HALF){
+			for (int w = 0; w < W; ++w){
+				chunk.putShort(2 * (base + w), floatToHalf(row[w]));
+			}
+		} else {
+			float max = 0;
+			for (int w = 0; w < W; ++w){
+				max = Math.max(max, row[w]);
+			}
+			float scale = max > 0 ? max / 255 : 1;
+			scales[k] = scale;
+			for (int w = 0; w < W; ++w){
+				int code = Math.round(row[w] / scale);
+				chunk.put(base + w, (byte) Math.max(0, Math.min(255, code)));
+			}
+		}
+
+		double rowMax = 0;
+		double rowSum = 0;
+		for (int w = 0; w < W; ++w){
+			double error = Math.abs(row[w] - get(k, w));
+			rowMax = Math.max(rowMax, error);
+			rowSum += error;
+		}
+		synchronized (this){
+			maxError = Math.max(maxError, rowMax);
+			sumError += rowSum;
+		}
+	}
+
+	public int rows() {
+		return K;
+	}
+
+	public int cols() {
+		return W;
+	}
+
+	public float get(int k, int w) {
+		int code = code(k, w);
+		return encoding == Encoding.HALF ? HALF_TO_FLOAT[code] : code * scales[k];
+	}
+
+	/**
+	 * The raw code of the weight of term w in topic k: the bits of a half-float, or an
+	 * unsigned byte (to be multiplied by scales[k]).
+	 */
+	int code(int k, int w) {
+		ByteBuffer chunk = chunks[k / rowsPerChunk];
+		int i = (k % rowsPerChunk) * W + w;
+		return encoding == Encoding.HALF ? chunk.getShort(2 * i) & 0xffff : chunk.get(i) & 0xff;
+	}
+
+	// The number of bytes held by the codes and scales
+	long bytes() {
+		return blockBytes(encoding, K, W);
+	}
+
+	// Logs the memory saved, and the largest and mean absolute error of the weights
+	synchronized void logSummary() {
+		long dense = 4L * K * W;
+		logger.info(String.format("Quantized phi for K=%d to %s: %.1f MB instead of %.1f MB (%.1f MB saved), "
+				+ "max abs error %.3g, mean abs error %.3g",
+				K, encoding.name().toLowerCase(), bytes() / (double) (1 << 20), dense / (double) (1 << 20),
+				(dense - bytes()) / (double) (1 << 20), maxError, sumError / Math.max(1L, (long) K * W)));
+	}
+
+
+	/**
+	 * Converts a float to the nearest half-precision float (round half to even).
+	 * Values too large for a half become infinity; values too small, 0 or subnormal.
+	 */
+	static short floatToHalf(float f) {
+		int bits = Float.floatToRawIntBits(f);
+		int sign = (bits >>> 16) & 0x8000;
+		int exp = (bits >>> 23) & 0xff;
+		int mant = bits & 0x7fffff;
+
+		if (exp == 0xff){
+			// Infinity or NaN
+			return (short) (sign | 0x7c00 | (mant != 0 ? 0x200 : 0));
+		}
+		int e = exp - 127 + 15;
+		if (e >= 0x1f){
+			return (short) (sign | 0x7c00);
+		}
+		if (e <= 0){
+			// Subnormal (or 0): shift the mantissa, with its implicit 1, into place
+			if (e < -10){
+				return (short) sign;
+			}
+			mant |= 0x800000;
+			int shift = 14 - e;
+			int half = mant >> shift;
+			int rest = mant & ((1 << shift) - 1);
+			int halfway = 1 << (shift - 1);
+			if (rest > halfway || (rest == halfway && (half & 1) != 0)){
+				++half;
+			}
+			return (short) (sign | half);
+		}
+		int half = (e << 10) | (mant >> 13);
+		int rest = mant & 0x1fff;
+		if (rest > 0x1000 || (rest == 0x1000 && (half & 1) != 0)){
+			// May carry into the exponent, which is still correct (up to infinity)
+			++half;
+		}
+		return (short) (sign | half);
+	}
+
+	/**
+	 * Converts the bits of a half-precision float to a float (exactly).
+	 */
+	static float halfToFloat(short h) {
+		int sign = (h & 0x8000) << 16;
+		int exp = (h >>> 10) & 0x1f;
+		int mant = h & 0x3ff;
+		if (exp == 0x1f){
+			return Float.intBitsToFloat(sign | 0x7f800000 | (mant << 13));
+		}
+		if (exp == 0){
+			float f = mant * 0x1.0p-24f;
+			return sign != 0 ? -f : f;
+		}
+		return Float.intBitsToFloat(sign | ((exp - 15 + 127) << 23) | (mant << 13));
+	}
+}
@@ -0,0 +1,161 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+QueryCache.java
+
+A bounded, least-recently-used cache of query results and query topic vectors, for tools
+(such as QueryServer) that see the same, or lightly edited, queries many times.
+
+Queries are keyed on their normalized text (see normalize()): the multiset of their terms,
+after the same sanitizing as the query engines, in sorted order. So two queries with the
+same terms, in any order and with any punctuation or numbers between them, share an entry.
+The rest of the key says which engine (model, K, scoring code, ...) the entry is for.
+
+The cache holds at most maxEntries entries and (approximately) maxBytes bytes; the least
+recently used entries are evicted first. Hits and misses are counted separately for
+results and topic vectors.
+
+Entries are only valid for the index and LDA index they were computed from: whoever
+reopens either must call clear() (QueryServer does this when it reloads). As a safety
+net, CachingQueryEngine also puts the version of the index into every result key.
+
+All methods are thread-safe.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+class QueryCache {
+
+	// Rough per-entry overhead of the map entry, the key and the value objects
+	private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+	private final int maxEntries;
+	private final long maxBytes;
+
+	// In access order, so the eldest entry is the least recently used
+	private final LinkedHashMap<String, Object> entries = new LinkedHashMap<String, Object>(16, 0.75f, true);
+	private long bytes = 0;
+
+	private long resultHits = 0;
+	private long resultMisses = 0;
+	private long vectorHits = 0;
+	private long vectorMisses = 0;
+	private long evictions = 0;
+
+	/**
+	 * @param maxEntries The maximum number of entries (results and vectors together)
+	 * @param maxBytes The (approximate) maximum size of the entries, in bytes
+	 */
+	QueryCache(int maxEntries, long maxBytes) {
+		this.maxEntries = maxEntries;
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Returns the normalized form of a (raw) query: its terms, sanitized as by the query
+	 * engines, sorted, and separated by single spaces.
+	 */
+	static String normalize(String query) {
+		QueryTokenizer tokens = QueryTokenizer.get();
+		tokens.tokenize(query);
+		return tokens.normalized();
+	}
+
+	/**
+	 * Returns the cached result for the given key, or null. The result has the name of the
+	 * query it was first computed for.
+	 */
+	synchronized QueryResult getResult(String key) {
+		Object value = entries.get(key);
+		if (value instanceof QueryResult){
+			++resultHits;
+			return (QueryResult) value;
+		}
+		++resultMisses;
+		return null;
+	}
+
+	synchronized void putResult(String key, QueryResult result) {
+		put(key, result);
+	}
+
+	/**
+	 * Returns the cached topic vector for the given key, or null. The vector must not be
+	 * modified.
+	 */
+	synchronized float[] getVector(String key) {
+		Object value = entries.get(key);
+		if (value instanceof float[]){
+			++vectorHits;
+			return (float[]) value;
+		}
+		++vectorMisses;
+		return null;
+	}
+
+	synchronized void putVector(String key, float[] vector) {
+		put(key, vector);
+	}
+
+	// Adds (or replaces) an entry, then evicts the least recently used entries until the
+	// cache is within its bounds. (An entry larger than maxBytes is not kept at all.)
+	private void put(String key, Object value) {
+		Object old = entries.put(key, value);
+		if (old != null){
+			bytes -= sizeOf(key, old);
+		}
+		bytes += sizeOf(key, value);
+		Iterator<Map.Entry<String, Object>> it = entries.entrySet().iterator();
+		while ((entries.size() > maxEntries || bytes > maxBytes) && it.hasNext()){
+			Map.Entry<String, Object> eldest = it.next();
+			bytes -= sizeOf(eldest.getKey(), eldest.getValue());
+			it.remove();
+			++evictions;
+		}
+	}
+
+	// The approximate size of an entry: its key, and the arrays and strings of its value
+	private static long sizeOf(String key, Object value) {
+		long size = ENTRY_OVERHEAD_BYTES + 2L * key.length();
+		if (value instanceof float[]){
+			return size + 4L * ((float[]) value).length;
+		}
+		QueryResult result = (QueryResult) value;
+		size += 4L * result.size();
+		for (String file : result.files){
+			size += 40 + 2L * file.length();
+		}
+		return size;
+	}
+
+	/**
+	 * Drops every entry (but keeps the counters).
+	 */
+	synchronized void clear() {
+		entries.clear();
+		bytes = 0;
+	}
+
+	synchronized int size() {
+		return entries.size();
+	}
+
+	synchronized long bytes() {
+		return bytes;
+	}
+
+	// A one-line summary of the counters, for logs and QueryServer's STATS
+	synchronized String stats() {
+		return String.format("cacheEntries=%d cacheKB=%d resultHits=%d resultMisses=%d vectorHits=%d vectorMisses=%d evictions=%d",
+				entries.size(), bytes / 1024, resultHits, resultMisses, vectorHits, vectorMisses, evictions);
+	}
+}
@@ -0,0 +1,29 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+QueryEngine.java
+
+Executes a single query against an open index. Implementations (VSMQueryEngine,
+LDAQueryEngine) share one IndexSearcher and must be safe to call from several threads
+at once; any per-query scratch state is kept per thread.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+interface QueryEngine extends QueryExecutor.Executable<QueryResult> {
+
+	/**
+	 * Runs the given (raw, unsanitized) query text.
+	 *
+	 * @param name The name of the query, copied into the result
+	 * @param query The query text
+	 * @return The ranked results, or null if the query was blank
+	 * @throws Exception
+	 */
+	QueryResult execute(String name, String query) throws Exception;
+}
@@ -0,0 +1,230 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+QueryExecutor.java
+
+Runs a batch of queries through a QueryEngine on a pool of worker threads, which all
+share the engine's IndexSearcher. The queries are the files of a directory, one query
+per file, or a stream of queries read from a single file or stdin (see QueryReader).
+The results are handed back to the calling thread, which writes them out either in the
+order the queries were given (ordered), or as soon as each one finishes (unordered).
+Only a bounded number of queries are in flight at once, so memory use does not grow
+with the size of the batch.
+
+At the end of the run, the throughput (queries per second) is logged.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.log4j.Logger;
+
+class QueryExecutor {
+
+	private static final Logger logger = Logger.getRootLogger();
+
+	// How many queries may be in flight per worker thread
+	private static final int QUEUED_PER_THREAD = 4;
+
+	// Executes a single query, giving a result of type R (or null if the query was
+	// blank); a QueryEngine gives a QueryResult
+	interface Executable<R> {
+		R execute(String name, String query) throws Exception;
+	}
+
+	// Receives the result of each (non-blank) query
+	interface Output<R> {
+		void write(R result) throws IOException;
+	}
+
+	// Receives the QueryResult of each (non-blank) query
+	interface Sink extends Output<QueryResult> {
+	}
+
+	private final int numThreads;
+	private final boolean ordered;
+
+	/**
+	 * @param numThreads The number of worker threads; 0 means one per available processor
+	 * @param ordered If true, results are written in the order of the queries;
+	 *                otherwise, in the order the queries finish
+	 */
+	QueryExecutor(int numThreads, boolean ordered) {
+		this.numThreads = numThreads > 0 ? numThreads : Runtime.getRuntime().availableProcessors();
+		this.ordered = ordered;
+	}
+
+	/**
+	 * Reads every (readable, non-hidden) file in the given directory as a query, and
+	 * executes it. The files are run in order of their names.
+	 */
+	<R> void run(File queryDir, Executable<R> engine, Output<? super R> sink) throws Exception {
+		File[] files = queryDir.listFiles();
+		Arrays.sort(files, new Comparator<File>() {
+			public int compare(File a, File b) {
+				return a.getName().compareTo(b.getName());
+			}
+		});
+		run(files, engine, sink);
+	}
+
+	/**
+	 * Executes every (readable, non-hidden) file in the given list as a query.
+	 */
+	<R> void run(final File[] files, final Executable<R> engine, Output<? super R> sink) throws Exception {
+		run(new Tasks<R>() {
+			private int i = 0;
+
+			public Callable<R> next() {
+				while (i < files.length){
+					final File f = files[i++];
+					if (f.isDirectory() || f.isHidden() || !f.exists() || !f.canRead()){
+						continue;
+					}
+					return new Callable<R>() {
+						public R call() throws Exception {
+							logger.info("Executing query for " + f.toString());
+							return execute(engine, f.getName(), FileUtils.readFileToString(f));
+						}
+					};
+				}
+				return null;
+			}
+		}, sink);
+	}
+
+	/**
+	 * Executes every query of the given stream. The queries are read on the calling
+	 * thread, as the workers are ready for them, so the whole stream is never held in
+	 * memory.
+	 */
+	<R> void run(final QueryReader queries, final Executable<R> engine, Output<? super R> sink) throws Exception {
+		run(new Tasks<R>() {
+			public Callable<R> next() throws IOException {
+				final String[] query = queries.next();
+				if (query == null){
+					return null;
+				}
+				return new Callable<R>() {
+					public R call() throws Exception {
+						logger.debug("Executing query " + query[0]);
+						return execute(engine, query[0], query[1]);
+					}
+				};
+			}
+		}, sink);
+	}
+
+	/**
+	 * Executes the queries of the given directory (see run(File, ...)), or, if the path is
+	 * not a directory, those of the given query file, or of stdin if it is "-" (see
+	 * QueryReader).
+	 *
+	 * @param format The format of the query file: tsv, jsonl or auto
+	 */
+	<R> void run(String queries, String format, Executable<R> engine, Output<? super R> sink) throws Exception {
+		File dir = new File(queries);
+		if (!queries.equals("-") && dir.isDirectory()){
+			run(dir, engine, sink);
+			return;
+		}
+		QueryReader reader = QueryReader.open(queries, format);
+		try {
+			run(reader, engine, sink);
+		} finally {
+			reader.close();
+		}
+	}
+
+	// The queries of a run, as tasks, one at a time
+	private interface Tasks<R> {
+		// Returns the next task, or null if there are no more
+		Callable<R> next() throws Exception;
+	}
+
+	private <R> void run(Tasks<R> tasks, Output<? super R> sink) throws Exception {
+		logger.info("Running queries on " + numThreads + " thread(s)");
+		long start = System.nanoTime();
+		int numQueries = 0;
+
+		ExecutorService pool = Executors.newFixedThreadPool(numThreads);
+		CompletionService<R> completion = new ExecutorCompletionService<R>(pool);
+		ArrayDeque<Future<R>> inFlight = new ArrayDeque<Future<R>>();
+		int maxInFlight = numThreads * QUEUED_PER_THREAD;
+		try {
+			Callable<R> task;
+			while ((task = tasks.next()) != null){
+				// (When ordered, results are taken from the head of inFlight, so the
+				// completion queue is not used.)
+				inFlight.add(ordered ? pool.submit(task) : completion.submit(task));
+				++numQueries;
+
+				if (inFlight.size() >= maxInFlight){
+					drainOne(completion, inFlight, sink);
+				}
+			}
+			while (!inFlight.isEmpty()){
+				drainOne(completion, inFlight, sink);
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+
+		double seconds = (System.nanoTime() - start) / 1e9;
+		logger.info(String.format("Executed %d queries in %.3f s (%.1f queries/sec)",
+				numQueries, seconds, numQueries / Math.max(seconds, 1e-9)));
+	}
+
+	// Executes one query, timing it
+	private static <R> R execute(Executable<R> engine, String name, String query) throws Exception {
+		long start = System.nanoTime();
+		try {
+			return engine.execute(name, query);
+		} finally {
+			Metrics.EXECUTE.since(start);
+		}
+	}
+
+	// Waits for one query to finish (the oldest one, if ordered), and writes its result
+	private <R> void drainOne(CompletionService<R> completion,
+			ArrayDeque<Future<R>> inFlight, Output<? super R> sink) throws Exception {
+		Future<R> future;
+		if (ordered){
+			future = inFlight.poll();
+		} else {
+			future = completion.take();
+			inFlight.remove(future);
+		}
+
+		R result;
+		try {
+			result = future.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof Exception){
+				throw (Exception) e.getCause();
+			}
+			throw e;
+		}
+		if (result != null){
+			sink.write(result);
+		}
+	}
+}
@@ -0,0 +1,225 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+QueryReader.java
+
+Reads a stream of queries from a single file (or stdin), rather than one file per query,
+so that large batches of queries do not cost an open and close per query. Two formats
+are understood, one query per line:
+
+* TSV:   <name> <TAB> <query text>
+* JSONL: {"id": "<name>", "text": "<query text>"}   ("qid" and "query" are also accepted,
+         and any other members are ignored)
+
+Blank lines are skipped. The name of each query is what its results are named after (as
+the name of a query file is, otherwise).
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+
+class QueryReader implements Closeable {
+
+	enum Format {
+		TSV, JSONL;
+
+		/**
+		 * Parses "tsv" or "jsonl" (in any case); "auto" (or null) picks the format by
+		 * the extension of the given path: JSONL for .jsonl or .json, and TSV otherwise.
+		 */
+		static Format parse(String name, String path) {
+			if (name == null || name.equalsIgnoreCase("auto")){
+				String lower = path.toLowerCase();
+				return lower.endsWith(".jsonl") || lower.endsWith(".json") ? JSONL : TSV;
+			}
+			for (Format f : values()){
+				if (f.name().equalsIgnoreCase(name)){
+					return f;
+				}
+			}
+			throw new IllegalArgumentException("Unknown query format: " + name + " (expected tsv, jsonl or auto)");
+		}
+	}
+
+	private final BufferedReader in;
+	private final Format format;
+	private final String source;
+	private int lineNumber = 0;
+
+	/**
+	 * @param in The queries
+	 * @param format Their format
+	 * @param source Where they come from (for error messages)
+	 */
+	QueryReader(InputStream in, Format format, String source) throws IOException {
+		this.in = new BufferedReader(new InputStreamReader(in, "UTF-8"), 1 << 16);
+		this.format = format;
+		this.source = source;
+	}
+
+	/**
+	 * Opens the given file of queries, or stdin if the path is "-".
+	 *
+	 * @param format tsv, jsonl or auto (see Format.parse())
+	 */
+	static QueryReader open(String path, String format) throws IOException {
+		if (path.equals("-")){
+			return new QueryReader(System.in, Format.parse(format, path), "stdin");
+		}
+		return new QueryReader(new FileInputStream(path), Format.parse(format, path), path);
+	}
+
+	/**
+	 * Returns the next query, as {name, text}, or null at the end of the input.
+	 *
+	 * @throws IOException If a line is malformed
+	 */
+	String[] next() throws IOException {
+		String line;
+		while ((line = in.readLine()) != null){
+			++lineNumber;
+			if (line.trim().length() == 0){
+				continue;
+			}
+			return format == Format.TSV ? parseTSV(line) : parseJSON(line);
+		}
+		return null;
+	}
+
+	public void close() throws IOException {
+		in.close();
+	}
+
+	private String[] parseTSV(String line) throws IOException {
+		int tab = line.indexOf('\t');
+		if (tab <= 0){
+			throw error("expected <name> <TAB> <query text>");
+		}
+		return new String[] {line.substring(0, tab).trim(), line.substring(tab + 1)};
+	}
+
+	// Parses one flat JSON object, keeping its id and text members
+	private String[] parseJSON(String line) throws IOException {
+		String name = null;
+		String text = null;
+		int[] pos = {skipSpace(line, 0)};
+		expect(line, pos, '{');
+		pos[0] = skipSpace(line, pos[0]);
+		if (pos[0] < line.length() && line.charAt(pos[0]) == '}'){
+			++pos[0];
+		} else {
+			while (true){
+				String key = parseString(line, pos);
+				pos[0] = skipSpace(line, pos[0]);
+				expect(line, pos, ':');
+				pos[0] = skipSpace(line, pos[0]);
+				if (pos[0] < line.length() && line.charAt(pos[0]) == '"'){
+					String value = parseString(line, pos);
+					if (key.equals("id") || key.equals("qid")){
+						name = value;
+					} else if (key.equals("text") || key.equals("query")){
+						text = value;
+					}
+				} else {
+					// A number, true, false or null
+					int start = pos[0];
+					while (pos[0] < line.length() && ",} \t".indexOf(line.charAt(pos[0])) < 0){
+						++pos[0];
+					}
+					if (pos[0] == start || line.charAt(start) == '{' || line.charAt(start) == '['){
+						throw error("only strings, numbers, true, false and null are supported as values");
+					}
+					if (key.equals("id") || key.equals("qid")){
+						name = line.substring(start, pos[0]);
+					}
+				}
+				pos[0] = skipSpace(line, pos[0]);
+				if (pos[0] < line.length() && line.charAt(pos[0]) == ','){
+					++pos[0];
+					pos[0] = skipSpace(line, pos[0]);
+					continue;
+				}
+				expect(line, pos, '}');
+				break;
+			}
+		}
+		if (skipSpace(line, pos[0]) != line.length()){
+			throw error("unexpected text after the object");
+		}
+		if (name == null || text == null){
+			throw error("expected an object with \"id\" and \"text\" members");
+		}
+		return new String[] {name, text};
+	}
+
+	// Parses the string that starts at pos[0] (at its opening quote), and moves past it
+	private String parseString(String line, int[] pos) throws IOException {
+		expect(line, pos, '"');
+		StringBuilder s = new StringBuilder();
+		int i = pos[0];
+		while (i < line.length()){
+			char c = line.charAt(i++);
+			if (c == '"'){
+				pos[0] = i;
+				return s.toString();
+			}
+			if (c != '\\'){
+				s.append(c);
+				continue;
+			}
+			if (i >= line.length()){
+				break;
+			}
+			c = line.charAt(i++);
+			switch (c){
+			case 'b': s.append('\b'); break;
+			case 'f': s.append('\f'); break;
+			case 'n': s.append('\n'); break;
+			case 'r': s.append('\r'); break;
+			case 't': s.append('\t'); break;
+			case 'u':
+				if (i + 4 > line.length()){
+					throw error("bad \\u escape");
+				}
+				try {
+					s.append((char) Integer.parseInt(line.substring(i, i + 4), 16));
+				} catch (NumberFormatException e) {
+					throw error("bad \\u escape");
+				}
+				i += 4;
+				break;
+			default: s.append(c); break;
+			}
+		}
+		throw error("unterminated string");
+	}
+
+	private void expect(String line, int[] pos, char c) throws IOException {
+		if (pos[0] >= line.length() || line.charAt(pos[0]) != c){
+			throw error("expected '" + c + "' at column " + (pos[0] + 1));
+		}
+		++pos[0];
+	}
+
+	private static int skipSpace(String line, int i) {
+		while (i < line.length() && Character.isWhitespace(line.charAt(i))){
+			++i;
+		}
+		return i;
+	}
+
+	private IOException error(String message) {
+		return new IOException(source + ", line " + lineNumber + ": " + message);
+	}
+}
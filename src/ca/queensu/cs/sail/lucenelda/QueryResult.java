@@ -0,0 +1,77 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+QueryResult.java
+
+The ranked list of documents returned for one query: the file keys and their scores,
+best first.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import org.apache.lucene.search.IndexSearcher;
+
+class QueryResult {
+
+	// The name of the query (e.g., the name of the file it was read from)
+	final String name;
+
+	final String[] files;
+	final float[] scores;
+
+	QueryResult(String name, String[] files, float[] scores) {
+		this.name = name;
+		this.files = files;
+		this.scores = scores;
+	}
+
+	/**
+	 * Builds the result from a sorted ranker, looking up the "file" key of each document
+	 * in the searcher's FileKeyColumn (so no stored field is loaded).
+	 */
+	static QueryResult fromRanker(String name, TopKRanker ranker, IndexSearcher searcher) throws IOException {
+		long start = System.nanoTime();
+		FileKeyColumn keys = FileKeyColumn.get(searcher.getIndexReader());
+		String[] files = new String[ranker.size()];
+		float[] scores = new float[ranker.size()];
+		for (int i = 0; i < files.length; ++i){
+			files[i] = keys.get(ranker.doc(i));
+			scores[i] = ranker.score(i);
+		}
+		Metrics.FILE_KEYS.since(start);
+		return new QueryResult(name, files, scores);
+	}
+
+	int size() {
+		return files.length;
+	}
+
+	// Writes the results in the usual "file,score" format, one line per document
+	void write(PrintWriter out) {
+		for (int i = 0; i < files.length; ++i){
+			out.printf("%s,%4.3f\n", files[i], scores[i]);
+		}
+	}
+
+	// Writes the results to a file with the same name as the query, in the given directory
+	void writeTo(File resultsDir) throws IOException {
+		long start = System.nanoTime();
+		PrintWriter out = new PrintWriter(new FileWriter(new File(resultsDir, name)));
+		try {
+			write(out);
+		} finally {
+			out.close();
+			Metrics.WRITE.since(start);
+		}
+	}
+}
@@ -0,0 +1,564 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+QueryServer.java
+
+(Invoked from command line, or via main() method.)
+
+A long-running query server: the index, and optionally an LDA index, are opened once and
+kept resident, and queries are answered one at a time as they arrive, so that a client
+(such as an IDE plugin that sends one bug report at a time) does not pay for JVM
+startup, opening the index and loading the LDA model on every query.
+
+The server reads requests from stdin and writes responses to stdout (logging goes to
+stderr), or, with --port, accepts connections on a local (loopback) socket, serving
+each connection on its own thread. All connections share the same IndexReader,
+searchers and LDAHelper.
+
+The protocol is line-delimited. A query request is one line: the model (lda, vsm or hybrid),
+optional key=value options, a tab, and the query text (on the same line):
+
+  lda [K=<K>] [twoPass=true] [maxHits=<n>] [id=<name>] <TAB> <query text>
+  vsm [weightingCode=<1-3>] [scoringCode=<1-2>] [maxHits=<n>] [id=<name>] <TAB> <query text>
+  hybrid [K=<K>] [weightingCode=<1-3>] [scoringCode=<1-2>] [fusion=linear|rrf] [vsmWeight=<w>]
+         [rrfK=<k>] [maxHits=<n>] [id=<name>] <TAB> <query text>
+
+The response is a header line, with the number of results and the time taken to
+execute the request (in milliseconds), followed by one "file,score" line per result, as
+in the results files of the query tools:
+
+  OK id=<name> hits=<n> ms=<latency>
+  ERROR id=<name> <message>
+
+The other requests are PING (answered with PONG), STATS (the number of requests and
+errors, the mean and largest latency so far, and the cache counters), and QUIT (which
+closes the connection, or stops a stdin server).
+
+Results and query topic vectors are kept in a bounded LRU cache (see QueryCache and
+CachingQueryEngine), so repeated queries are answered without searching. At most once a
+second, the server checks whether the index or the LDA index has changed on disk (e.g.,
+after an incremental update); if so, it reopens them and clears the cache. Requests in
+progress finish on the old index.
+
+The timings of each phase of the requests (and of loading the indexes) are exposed
+through JMX, as the MBean Metrics.OBJECT_NAME (see Metrics), e.g., to jconsole.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.log4j.ConsoleAppender;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.log4j.PatternLayout;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.store.NIOFSDirectory;
+
+import com.martiansoftware.jsap.FlaggedOption;
+import com.martiansoftware.jsap.JSAP;
+import com.martiansoftware.jsap.JSAPResult;
+import com.martiansoftware.jsap.Switch;
+import com.martiansoftware.jsap.UnflaggedOption;
+
+public class QueryServer {
+
+	private static final Logger logger = Logger.getRootLogger();
+
+	// The same as the query tools
+	private static final int DEFAULT_MAX_HITS = 500;
+
+	// How often to check whether the index or LDA index changed on disk
+	private static final long REFRESH_INTERVAL_MS = 1000;
+
+	// The index and LDA index; replaced by refresh() when they change on disk
+	private IndexReader reader;
+	private LDAHelper lda;
+
+	// The file of the LDA index (or null), and its modification times when it was loaded
+	// (see modified())
+	private final File ldaFile;
+	private String ldaModified;
+	private long lastRefresh;
+
+	// The cache of results and query vectors, or null
+	private final QueryCache cache;
+
+	// The engines built so far, by their options (see engine())
+	private final Map<String, QueryEngine> engines = new HashMap<String, QueryEngine>();
+
+	// Statistics of all requests
+	private long numRequests = 0;
+	private long numErrors = 0;
+	private long totalNanos = 0;
+	private long maxNanos = 0;
+
+	/**
+	 * @param reader The index to query
+	 * @param lda The LDA index, or null if only VSM queries will be served
+	 */
+	QueryServer(IndexReader reader, LDAHelper lda) {
+		this(reader, lda, null, null);
+	}
+
+	/**
+	 * @param reader The index to query
+	 * @param lda The LDA index, or null if only VSM queries will be served
+	 * @param ldaFile The file the LDA index was loaded from (to reload it if it changes),
+	 *                or null
+	 * @param cache The cache of results and query vectors, or null for none
+	 */
+	QueryServer(IndexReader reader, LDAHelper lda, File ldaFile, QueryCache cache) {
+		this.reader = reader;
+		this.lda = lda;
+		this.ldaFile = ldaFile;
+		this.ldaModified = ldaFile == null ? null : modified(ldaFile);
+		this.lastRefresh = System.currentTimeMillis();
+		this.cache = cache;
+	}
+
+
+	// When the LDA index, and its delta (see ModelDelta), were last modified; an update
+	// may change either
+	private static String modified(File ldaFile) {
+		return ldaFile.lastModified() + "/" + ModelDelta.fileFor(ldaFile).lastModified();
+	}
+
+
+	/**
+	 * Reopens the index and reloads the LDA index if either has changed on disk since it
+	 * was opened, dropping the engines and cached results built on the old ones. Only
+	 * checks if force is true or REFRESH_INTERVAL_MS has passed since the last check.
+	 */
+	synchronized void refresh(boolean force) throws IOException {
+		long now = System.currentTimeMillis();
+		if (!force && now - lastRefresh < REFRESH_INTERVAL_MS){
+			return;
+		}
+		lastRefresh = now;
+
+		boolean changed = false;
+		long start = System.nanoTime();
+		IndexReader newReader = IndexReader.openIfChanged(reader);
+		if (newReader != null){
+			Metrics.OPEN_INDEX.since(start);
+			logger.info("The index changed; reopened it (version " + newReader.getVersion() + ")");
+			// Requests in progress hold their own reference to the old reader
+			reader.decRef();
+			reader = newReader;
+			changed = true;
+		}
+		if (ldaFile != null && !modified(ldaFile).equals(ldaModified)){
+			ldaModified = modified(ldaFile);
+			LDAHelper newLda = LDAHelper.load(ldaFile.getPath());
+			if (!lda.scens.isEmpty()){
+				newLda.setTermTopicEpsilon(lda.scens.get(0).termTopicEpsilon);
+			}
+			lda = newLda;
+			logger.info("The LDA index changed; reloaded " + ldaFile);
+			changed = true;
+		}
+		if (changed){
+			engines.clear();
+			if (cache != null){
+				cache.clear();
+			}
+		}
+	}
+
+
+	/**
+	 * Closes the index (once the requests in progress have finished with it).
+	 */
+	synchronized void close() throws IOException {
+		reader.decRef();
+	}
+
+
+	/**
+	 * Builds the engines for the default options of each model, so that the first
+	 * requests do not pay for it.
+	 */
+	void preload() {
+		if (lda != null){
+			engine("lda", new HashMap<String, String>());
+		}
+		engine("vsm", new HashMap<String, String>());
+	}
+
+
+	/**
+	 * Answers requests from the given input until it ends, or until QUIT.
+	 */
+	void serve(BufferedReader in, PrintWriter out) throws IOException {
+		String line;
+		while ((line = in.readLine()) != null){
+			if (line.trim().equalsIgnoreCase("QUIT")){
+				break;
+			}
+			out.print(handle(line));
+			out.flush();
+		}
+	}
+
+
+	/**
+	 * Accepts connections on the given port of the loopback interface, forever, serving
+	 * each on one of numThreads threads.
+	 */
+	void listen(int port, int numThreads) throws IOException {
+		ServerSocket server = new ServerSocket(port, 50, InetAddress.getByName("127.0.0.1"));
+		ExecutorService pool = Executors.newFixedThreadPool(numThreads);
+		logger.info("Listening on " + server.getLocalSocketAddress() + " with " + numThreads + " thread(s)");
+		try {
+			while (true){
+				final Socket socket = server.accept();
+				pool.execute(new Runnable() {
+					public void run() {
+						try {
+							try {
+								serve(new BufferedReader(new InputStreamReader(socket.getInputStream(), "UTF-8")),
+										new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), "UTF-8")));
+							} finally {
+								socket.close();
+							}
+						} catch (IOException e) {
+							logger.warn("Connection from " + socket.getRemoteSocketAddress() + " failed: " + e.getMessage());
+						}
+					}
+				});
+			}
+		} finally {
+			pool.shutdownNow();
+			server.close();
+		}
+	}
+
+
+	/**
+	 * Answers one request line, and returns the whole response (including its line
+	 * terminators).
+	 */
+	String handle(String line) {
+		String trimmed = line.trim();
+		if (trimmed.equalsIgnoreCase("PING")){
+			return "PONG\n";
+		}
+		if (trimmed.equalsIgnoreCase("STATS")){
+			synchronized (this){
+				return String.format("STATS requests=%d errors=%d meanMs=%.3f maxMs=%.3f%s%n", numRequests, numErrors,
+						totalNanos / 1e6 / Math.max(1, numRequests), maxNanos / 1e6,
+						cache == null ? "" : " " + cache.stats());
+			}
+		}
+
+		long start = System.nanoTime();
+		long nanos = 0;
+		String id = "-";
+		StringWriter response = new StringWriter();
+		PrintWriter out = new PrintWriter(response);
+		boolean ok = false;
+		try {
+			int tab = line.indexOf('\t');
+			if (tab < 0){
+				throw new IllegalArgumentException("expected: <model> [key=value ...] <TAB> <query text>");
+			}
+			String[] header = line.substring(0, tab).trim().split("\\s+");
+			String query = line.substring(tab + 1);
+
+			Map<String, String> options = new HashMap<String, String>();
+			for (int i = 1; i < header.length; ++i){
+				int eq = header[i].indexOf('=');
+				if (eq <= 0){
+					throw new IllegalArgumentException("bad option \"" + header[i] + "\"");
+				}
+				options.put(header[i].substring(0, eq), header[i].substring(eq + 1));
+			}
+			if (options.containsKey("id")){
+				id = options.remove("id");
+			}
+
+			// Hold a reference to the reader the engine searches, in case refresh() replaces it
+			QueryEngine engine;
+			IndexReader engineReader;
+			synchronized (this){
+				refresh(false);
+				engine = engine(header[0], options);
+				engineReader = reader;
+				engineReader.incRef();
+			}
+			QueryResult result;
+			try {
+				result = engine.execute(id, query);
+			} finally {
+				engineReader.decRef();
+			}
+			nanos = System.nanoTime() - start;
+			int hits = result == null ? 0 : result.size();
+			out.printf("OK id=%s hits=%d ms=%.3f%n", id, hits, nanos / 1e6);
+			if (result != null){
+				result.write(out);
+			}
+			ok = true;
+		} catch (Exception e) {
+			nanos = System.nanoTime() - start;
+			out.printf("ERROR id=%s %s%n", id, String.valueOf(e.getMessage()).replace('\n', ' '));
+		}
+		out.flush();
+
+		synchronized (this){
+			++numRequests;
+			if (!ok){
+				++numErrors;
+			}
+			totalNanos += nanos;
+			maxNanos = Math.max(maxNanos, nanos);
+		}
+		logger.info(String.format("Request %s %s in %.3f ms", id, ok ? "answered" : "failed", nanos / 1e6));
+		return response.toString();
+	}
+
+
+	// Returns the engine for the given model and options, building it the first time
+	private synchronized QueryEngine engine(String model, Map<String, String> options) {
+		int maxHits = intOption(options, "maxHits", DEFAULT_MAX_HITS);
+		String key;
+		if (model.equalsIgnoreCase("lda")){
+			if (lda == null){
+				throw new IllegalArgumentException("no LDA index was given to the server");
+			}
+			int K = intOption(options, "K", 0);
+			boolean twoPass = Boolean.parseBoolean(stringOption(options, "twoPass", "false"));
+			if (intOption(options, "scoringCode", 1) != 1){
+				throw new IllegalArgumentException("the only LDA scoring code is 1 (conditional probability)");
+			}
+			checkOptions(options);
+			key = "lda K=" + K + " twoPass=" + twoPass + " maxHits=" + maxHits;
+			QueryEngine engine = engines.get(key);
+			if (engine == null){
+				LDAQueryEngine ldaEngine = new LDAQueryEngine(new IndexSearcher(reader), lda, K, maxHits, twoPass);
+				ldaEngine.setCache(cache);
+				engine = cached(ldaEngine, key);
+				engines.put(key, engine);
+			}
+			return engine;
+		}
+		if (model.equalsIgnoreCase("vsm")){
+			int weightingCode = intOption(options, "weightingCode", 1);
+			int scoringCode = intOption(options, "scoringCode", 1);
+			checkOptions(options);
+			key = "vsm weightingCode=" + weightingCode + " scoringCode=" + scoringCode + " maxHits=" + maxHits;
+			QueryEngine engine = engines.get(key);
+			if (engine == null){
+				IndexSearcher searcher = new IndexSearcher(reader);
+				searcher.setSimilarity(VSMSimilarity.fromCodes(weightingCode, scoringCode));
+				engine = cached(new VSMQueryEngine(searcher, maxHits), key);
+				engines.put(key, engine);
+			}
+			return engine;
+		}
+		if (model.equalsIgnoreCase("hybrid")){
+			if (lda == null){
+				throw new IllegalArgumentException("no LDA index was given to the server");
+			}
+			int K = intOption(options, "K", 0);
+			int weightingCode = intOption(options, "weightingCode", 1);
+			int scoringCode = intOption(options, "scoringCode", 1);
+			HybridQueryEngine.Fusion fusion = HybridQueryEngine.Fusion.parse(stringOption(options, "fusion", "linear"));
+			float vsmWeight = floatOption(options, "vsmWeight", 0.5f);
+			int rrfK = intOption(options, "rrfK", HybridQueryEngine.DEFAULT_RRF_K);
+			checkOptions(options);
+			key = "hybrid K=" + K + " weightingCode=" + weightingCode + " scoringCode=" + scoringCode
+				+ " fusion=" + fusion + " vsmWeight=" + vsmWeight + " rrfK=" + rrfK + " maxHits=" + maxHits;
+			QueryEngine engine = engines.get(key);
+			if (engine == null){
+				IndexSearcher searcher = new IndexSearcher(reader);
+				searcher.setSimilarity(VSMSimilarity.fromCodes(weightingCode, scoringCode));
+				HybridQueryEngine hybridEngine = new HybridQueryEngine(searcher, lda, K, maxHits, fusion);
+				hybridEngine.setVSMWeight(vsmWeight);
+				hybridEngine.setRRFK(rrfK);
+				hybridEngine.getLDAEngine().setCache(cache);
+				engine = cached(hybridEngine, key);
+				engines.put(key, engine);
+			}
+			return engine;
+		}
+		throw new IllegalArgumentException("unknown model \"" + model + "\" (expected lda, vsm or hybrid)");
+	}
+
+	// Wraps the engine with the cache, if there is one
+	private QueryEngine cached(QueryEngine engine, String key) {
+		return cache == null ? engine : new CachingQueryEngine(engine, key, reader, cache);
+	}
+
+	// Removes and returns an option (or the default, if it was not given)
+	private static String stringOption(Map<String, String> options, String name, String def) {
+		String value = options.remove(name);
+		return value == null ? def : value;
+	}
+
+	private static int intOption(Map<String, String> options, String name, int def) {
+		String value = options.remove(name);
+		try {
+			return value == null ? def : Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException(name + " must be an integer, not \"" + value + "\"");
+		}
+	}
+
+	private static float floatOption(Map<String, String> options, String name, float def) {
+		String value = options.remove(name);
+		try {
+			return value == null ? def : Float.parseFloat(value);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException(name + " must be a number, not \"" + value + "\"");
+		}
+	}
+
+	// Fails if any options were not used
+	private static void checkOptions(Map<String, String> options) {
+		if (!options.isEmpty()){
+			throw new IllegalArgumentException("unknown option(s) " + options.keySet());
+		}
+	}
+
+
+	public static void main(String[] args) throws Exception {
+
+		JSAP jsap = new JSAP();
+
+		UnflaggedOption opt0 = new UnflaggedOption("indexDir").setStringParser(
+				JSAP.STRING_PARSER).setRequired(true);
+		opt0.setHelp("The directory containing the pre-build Lucene index.");
+
+		FlaggedOption opt1 = new FlaggedOption("ldaIndex")
+				.setStringParser(JSAP.STRING_PARSER).setRequired(false)
+				.setLongFlag("ldaIndex");
+		opt1.setHelp("The pre-built LDA index. Required for LDA queries.");
+
+		FlaggedOption opt2 = new FlaggedOption("port")
+				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+				.setLongFlag("port");
+		opt2.setHelp("Accept connections on this port of the loopback interface (0 means any free port). "
+				+ "Default: read requests from stdin, and write responses to stdout.");
+
+		FlaggedOption opt3 = new FlaggedOption("threads")
+				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+				.setLongFlag("threads").setDefault("0");
+		opt3.setHelp("The number of connections to serve at once, with --port. Default: one per available processor.");
+
+		FlaggedOption opt4 = new FlaggedOption("phiEpsilon")
+				.setStringParser(JSAP.FLOAT_PARSER).setRequired(false)
+				.setLongFlag("phiEpsilon").setDefault("0");
+		opt4.setHelp("Weights of a term in a topic at or below this value are ignored when computing the topics "
+				+ "of a query. Default: 0 (only exact zeros are ignored).");
+
+		FlaggedOption opt5 = new FlaggedOption("cacheEntries")
+				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+				.setLongFlag("cacheEntries").setDefault("1000");
+		opt5.setHelp("The maximum number of results and query vectors to cache (0 disables the cache). Default: 1000.");
+
+		FlaggedOption opt6 = new FlaggedOption("cacheMB")
+				.setStringParser(JSAP.INTEGER_PARSER).setRequired(false)
+				.setLongFlag("cacheMB").setDefault("64");
+		opt6.setHelp("The maximum size of the cache, in MB. Default: 64.");
+
+		Switch sw0 = new Switch("help").setDefault("false").setLongFlag("help");
+		sw0.setHelp("Prints this message.");
+
+		jsap.registerParameter(sw0);
+		jsap.registerParameter(opt0);
+		jsap.registerParameter(opt1);
+		jsap.registerParameter(opt2);
+		jsap.registerParameter(opt3);
+		jsap.registerParameter(opt4);
+		jsap.registerParameter(opt5);
+		jsap.registerParameter(opt6);
+
+		JSAPResult config = jsap.parse(args);
+
+		// Set up the Apache log4j logger, only if we need to (another class or test case or ant
+		// may have already set up the logger.) Log to stderr, since stdout may carry responses.
+		if (!logger.getAllAppenders().hasMoreElements()) {
+			logger.addAppender(new ConsoleAppender(new PatternLayout("%r [%t] %p %c %x - %m%n"), ConsoleAppender.SYSTEM_ERR));
+			logger.setLevel(Level.INFO);
+		}
+
+		// check whether the command line was valid, and if it wasn't,
+		// display usage information and exit.
+		if (!config.success()) {
+			for (java.util.Iterator<?> errs = config.getErrorMessageIterator(); errs
+					.hasNext();) {
+				logger.error("Error: " + errs.next());
+			}
+			displayHelp(config, jsap);
+			return;
+		}
+
+		if (config.getBoolean("help")) {
+			displayHelp(config, jsap);
+			return;
+		}
+
+		LDAHelper lda = null;
+		if (config.getString("ldaIndex") != null){
+			lda = LDAHelper.load(config.getString("ldaIndex"));
+			lda.setTermTopicEpsilon(config.getFloat("phiEpsilon"));
+		}
+
+		long openStart = System.nanoTime();
+		IndexReader reader = IndexReader.open(NIOFSDirectory.open(new File(config.getString("indexDir"))), true);
+		Metrics.OPEN_INDEX.since(openStart);
+		BooleanQuery.setMaxClauseCount(8192);
+		QueryCache cache = null;
+		if (config.getInt("cacheEntries") > 0 && config.getInt("cacheMB") > 0){
+			cache = new QueryCache(config.getInt("cacheEntries"), config.getInt("cacheMB") * (1L << 20));
+		}
+		File ldaFile = lda == null ? null : new File(config.getString("ldaIndex"));
+		QueryServer server = new QueryServer(reader, lda, ldaFile, cache);
+		Metrics.registerMBean();
+		try {
+			server.preload();
+			if (config.contains("port")){
+				int numThreads = config.getInt("threads");
+				server.listen(config.getInt("port"), numThreads > 0 ? numThreads : Runtime.getRuntime().availableProcessors());
+			} else {
+				logger.info("Reading requests from stdin");
+				server.serve(new BufferedReader(new InputStreamReader(System.in, "UTF-8")),
+						new PrintWriter(new OutputStreamWriter(System.out, "UTF-8")));
+			}
+		} finally {
+			server.close();
+		}
+	}
+
+	/* Use JSAP to display command-line usage information */
+	private static void displayHelp(JSAPResult config, JSAP jsap) {
+		System.err.println();
+		System.err.println("Usage: java " + QueryServer.class.getName());
+		System.err.println("                " + jsap.getUsage());
+		System.err.println();
+		System.err.println(jsap.getHelp());
+		System.err.println();
+	}
+}
@@ -0,0 +1,288 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+QueryTokenizer.java
+
+Sanitizes and tokenizes the text of a query, for both the VSM and the LDA query paths,
+in a single scan of its characters. The result is exactly that of the regular
+expressions the query tools have always used:
+
+    query = query.replaceAll("\\^.", " ");
+    query = query.replaceAll("[1234567890\\p{Punct}\\n]", " ");
+    if (query.matches("^\\s*$")) ...          // blank
+    String[] terms = query.split("\\s+");
+
+i.e., a '^' and the character after it (if that is not a line terminator) become a
+space, as does any digit, ASCII punctuation character or newline, and the terms are the
+runs of characters other than ASCII whitespace (" \t\n\x0B\f\r"). But no pattern is
+compiled or matched, and no intermediate string is built: the sanitized text is kept in
+a reused buffer, and the terms as offsets into it, until they are asked for.
+
+From the terms, the tokenizer gives the ids of the terms in the LDA vocabulary, and the
+VSM query (see query()). Each thread has its own tokenizer (see get()), which is reused
+for each query, so its results are only valid until it tokenizes the next one.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.util.Arrays;
+
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryParser.ParseException;
+import org.apache.lucene.queryParser.QueryParser;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+
+final class QueryTokenizer {
+
+	// The longest token WhitespaceTokenizer emits whole (see CharTokenizer)
+	private static final int MAX_TOKEN_LENGTH = 254;
+
+	private static final ThreadLocal<QueryTokenizer> tokenizers = new ThreadLocal<QueryTokenizer>() {
+		protected QueryTokenizer initialValue() {
+			return new QueryTokenizer();
+		}
+	};
+
+	// The sanitized text
+	private char[] text = new char[256];
+	private int length;
+
+	// The start and end (exclusive) of each term in text, and the term itself, once built
+	private int[] starts = new int[32];
+	private int[] ends = new int[32];
+	private String[] terms = new String[32];
+	private int size;
+
+	// The text that String.trim() would keep: from the first to the last character above
+	// ' ' (both inclusive)
+	private int trimStart;
+	private int trimEnd;
+
+	// Whether every term is as QueryParser and SimpleAnalyzer would see it (see query())
+	private boolean simple;
+
+	private int[] termIds = new int[32];
+
+	/**
+	 * Returns this thread's tokenizer.
+	 */
+	static QueryTokenizer get() {
+		return tokenizers.get();
+	}
+
+	/**
+	 * Sanitizes and tokenizes the given query.
+	 *
+	 * @return False if the query is blank (it has no terms)
+	 */
+	boolean tokenize(String query) {
+		int n = query.length();
+		if (text.length < n){
+			text = new char[Math.max(n, 2 * text.length)];
+		}
+		length = 0;
+		size = 0;
+		trimStart = -1;
+		trimEnd = -1;
+		simple = true;
+		int termStart = -1;
+		for (int i = 0; i < n; ++i){
+			char c = query.charAt(i);
+			if (c == '^' && i + 1 < n && !isLineTerminator(query.charAt(i + 1))){
+				// "\\^." matches a whole code point after the '^'
+				i += Character.isHighSurrogate(query.charAt(i + 1)) && i + 2 < n
+						&& Character.isLowSurrogate(query.charAt(i + 2)) ? 2 : 1;
+				c = ' ';
+			} else if (c < 128 && isPunctOrDigit(c) || c == '\n'){
+				c = ' ';
+			}
+
+			if (c > ' '){
+				if (trimStart < 0){
+					trimStart = length;
+				}
+				trimEnd = length;
+			}
+			if (isSpace(c)){
+				if (c == '\u000B' || c == '\f'){
+					// Not whitespace to QueryParser, so it joins the terms around it
+					simple = false;
+				}
+				if (termStart >= 0){
+					addTerm(termStart, length);
+					termStart = -1;
+				}
+			} else {
+				if (termStart < 0){
+					termStart = length;
+				}
+				if (Character.isWhitespace(c) || Character.isHighSurrogate(c) || Character.isLowSurrogate(c)){
+					simple = false;
+				}
+			}
+			text[length++] = c;
+		}
+		if (termStart >= 0){
+			addTerm(termStart, length);
+		}
+		return size > 0;
+	}
+
+	private void addTerm(int start, int end) {
+		if (size == starts.length){
+			starts = Arrays.copyOf(starts, 2 * size);
+			ends = Arrays.copyOf(ends, 2 * size);
+			terms = Arrays.copyOf(terms, 2 * size);
+			termIds = new int[2 * size];
+		}
+		starts[size] = start;
+		ends[size] = end;
+		terms[size] = null;
+		++size;
+		if (end - start > MAX_TOKEN_LENGTH || isOperator(start, end)){
+			simple = false;
+		}
+	}
+
+	// [1234567890\p{Punct}], for ASCII c
+	private static boolean isPunctOrDigit(char c) {
+		return (c >= '0' && c <= '9') || (c >= '!' && c <= '/') || (c >= ':' && c <= '@')
+				|| (c >= '[' && c <= '`') || (c >= '{' && c <= '~');
+	}
+
+	// The characters that '.' does not match
+	private static boolean isLineTerminator(char c) {
+		return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+	}
+
+	// \s
+	private static boolean isSpace(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+	}
+
+	// The words QueryParser takes as operators
+	private boolean isOperator(int start, int end) {
+		int len = end - start;
+		return (len == 2 && text[start] == 'O' && text[start + 1] == 'R')
+				|| (len == 3 && text[start] == 'A' && text[start + 1] == 'N' && text[start + 2] == 'D')
+				|| (len == 3 && text[start] == 'N' && text[start + 1] == 'O' && text[start + 2] == 'T');
+	}
+
+	/**
+	 * The number of terms.
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * The i'th term.
+	 */
+	String term(int i) {
+		String term = terms[i];
+		if (term == null){
+			term = new String(text, starts[i], ends[i] - starts[i]);
+			terms[i] = term;
+		}
+		return term;
+	}
+
+	/**
+	 * The sanitized text of the query.
+	 */
+	String text() {
+		return new String(text, 0, length);
+	}
+
+	/**
+	 * The terms of the trimmed text of the query, i.e., text().trim().split("\\s+"), as
+	 * TopicInferencer has always been given them (trimming also drops any control
+	 * characters at the ends).
+	 */
+	String[] trimmedTerms() {
+		if (trimStart < 0){
+			return new String[] {""};
+		}
+		int first = 0;
+		while (ends[first] <= trimStart){
+			++first;
+		}
+		int last = size - 1;
+		while (starts[last] > trimEnd){
+			--last;
+		}
+		String[] trimmed = new String[last - first + 1];
+		for (int i = first; i <= last; ++i){
+			int start = Math.max(starts[i], trimStart);
+			int end = Math.min(ends[i], trimEnd + 1);
+			trimmed[i - first] = start == starts[i] && end == ends[i] ? term(i) : new String(text, start, end - start);
+		}
+		return trimmed;
+	}
+
+	/**
+	 * The id of each term in the LDA vocabulary, or -1 for a term that is not in it. The
+	 * array is reused; only its first size() entries are valid.
+	 */
+	int[] termIds(LDAHelper.LDAK ldak) {
+		for (int i = 0; i < size; ++i){
+			termIds[i] = ldak.getTermId(term(i));
+		}
+		return termIds;
+	}
+
+	/**
+	 * The normalized form of the query (see QueryCache.normalize()): its terms, sorted,
+	 * and separated by single spaces.
+	 */
+	String normalized() {
+		String[] sorted = new String[size];
+		int chars = 0;
+		for (int i = 0; i < size; ++i){
+			sorted[i] = term(i);
+			chars += sorted[i].length() + 1;
+		}
+		Arrays.sort(sorted);
+		StringBuilder sb = new StringBuilder(chars);
+		for (String term : sorted){
+			if (sb.length() > 0){
+				sb.append(' ');
+			}
+			sb.append(term);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the query that the given parser (a MultiFieldQueryParser over the single
+	 * given field, with a SimpleAnalyzer) makes of the sanitized text. In the usual case,
+	 * that is one optional TermQuery per term (or the TermQuery alone, for one term), which
+	 * is built directly, rather than by parsing the text again. Otherwise (a term that is
+	 * an operator, such as AND, or that the analyzer would split further or that has
+	 * characters outside the BMP, which it does not always keep intact, terms that are
+	 * separated by a character that QueryParser does not take as whitespace, or too many
+	 * terms), the text is parsed, as it always was.
+	 */
+	Query query(String field, QueryParser parser) throws ParseException {
+		if (!simple || size > BooleanQuery.getMaxClauseCount()){
+			return parser.parse(text());
+		}
+		if (size == 1){
+			return new TermQuery(new Term(field, term(0)));
+		}
+		BooleanQuery query = new BooleanQuery();
+		Term prototype = new Term(field);
+		for (int i = 0; i < size; ++i){
+			query.add(new TermQuery(prototype.createTerm(term(i))), Occur.SHOULD);
+		}
+		return query;
+	}
+}
@@ -0,0 +1,176 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+RunReader.java
+
+Reads back the results of a batch of queries, in any of the formats written by
+RunWriter: a results directory (one "file,score" file per query), a TREC run file, or a
+binary run file (recognized by its magic number).
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class RunReader {
+
+	private RunReader() {
+	}
+
+	/**
+	 * Reads the results of every query in the given results directory or run file, in
+	 * the order they were written, by query name.
+	 */
+	static Map<String, QueryResult> read(File run) throws IOException {
+		if (run.isDirectory()){
+			return readFiles(run);
+		}
+		byte[] magic = new byte[RunWriter.MAGIC.length];
+		DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(run)));
+		try {
+			int n = in.read(magic);
+			if (n == magic.length && Arrays.equals(magic, RunWriter.MAGIC)){
+				return readBinary(in, run);
+			}
+		} finally {
+			in.close();
+		}
+		return readTREC(run);
+	}
+
+	// One file per query, named after it, of "file,score" lines
+	private static Map<String, QueryResult> readFiles(File dir) throws IOException {
+		File[] files = dir.listFiles();
+		Arrays.sort(files, new Comparator<File>() {
+			public int compare(File a, File b) {
+				return a.getName().compareTo(b.getName());
+			}
+		});
+		Map<String, QueryResult> results = new LinkedHashMap<String, QueryResult>();
+		for (File f : files){
+			if (f.isDirectory() || f.isHidden()){
+				continue;
+			}
+			List<String> keys = new ArrayList<String>();
+			List<Float> scores = new ArrayList<Float>();
+			BufferedReader in = new BufferedReader(new FileReader(f));
+			try {
+				String line;
+				while ((line = in.readLine()) != null){
+					int comma = line.lastIndexOf(',');
+					if (comma < 0){
+						continue;
+					}
+					keys.add(line.substring(0, comma));
+					scores.add(parseScore(line.substring(comma + 1), f));
+				}
+			} finally {
+				in.close();
+			}
+			results.put(f.getName(), result(f.getName(), keys, scores));
+		}
+		return results;
+	}
+
+	// "<query> Q0 <file> <rank> <score> <tag>" lines; each query's documents are ordered
+	// by rank
+	private static Map<String, QueryResult> readTREC(File run) throws IOException {
+		final Map<String, List<String[]>> lines = new LinkedHashMap<String, List<String[]>>();
+		BufferedReader in = new BufferedReader(new InputStreamReader(new FileInputStream(run), "UTF-8"), 1 << 16);
+		try {
+			String line;
+			while ((line = in.readLine()) != null){
+				String[] fields = line.trim().split("\\s+");
+				if (fields.length < 5){
+					continue;
+				}
+				List<String[]> query = lines.get(fields[0]);
+				if (query == null){
+					query = new ArrayList<String[]>();
+					lines.put(fields[0], query);
+				}
+				query.add(fields);
+			}
+		} finally {
+			in.close();
+		}
+
+		Map<String, QueryResult> results = new LinkedHashMap<String, QueryResult>();
+		for (Map.Entry<String, List<String[]>> query : lines.entrySet()){
+			List<String[]> docs = query.getValue();
+			Collections.sort(docs, new Comparator<String[]>() {
+				public int compare(String[] a, String[] b) {
+					return Integer.valueOf(a[3]).compareTo(Integer.valueOf(b[3]));
+				}
+			});
+			List<String> keys = new ArrayList<String>();
+			List<Float> scores = new ArrayList<Float>();
+			for (String[] doc : docs){
+				keys.add(doc[2]);
+				scores.add(parseScore(doc[4], run));
+			}
+			results.put(query.getKey(), result(query.getKey(), keys, scores));
+		}
+		return results;
+	}
+
+	private static Map<String, QueryResult> readBinary(DataInputStream in, File run) throws IOException {
+		int version = in.readInt();
+		if (version != RunWriter.VERSION){
+			throw new IOException(run + ": unsupported run version " + version);
+		}
+		Map<String, QueryResult> results = new LinkedHashMap<String, QueryResult>();
+		while (true){
+			String name;
+			try {
+				name = in.readUTF();
+			} catch (EOFException e) {
+				return results;
+			}
+			int n = in.readInt();
+			String[] files = new String[n];
+			float[] scores = new float[n];
+			for (int i = 0; i < n; ++i){
+				files[i] = in.readUTF();
+				scores[i] = in.readFloat();
+			}
+			results.put(name, new QueryResult(name, files, scores));
+		}
+	}
+
+	private static float parseScore(String score, File source) throws IOException {
+		try {
+			return Float.parseFloat(score.trim());
+		} catch (NumberFormatException e) {
+			throw new IOException(source + ": bad score \"" + score + "\"");
+		}
+	}
+
+	private static QueryResult result(String name, List<String> keys, List<Float> scores) {
+		float[] s = new float[scores.size()];
+		for (int i = 0; i < s.length; ++i){
+			s[i] = scores.get(i);
+		}
+		return new QueryResult(name, keys.toArray(new String[keys.size()]), s);
+	}
+}
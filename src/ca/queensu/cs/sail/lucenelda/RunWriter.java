@@ -0,0 +1,269 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+RunWriter.java
+
+Writes the results of a batch of queries (a "run") on its own thread, so that formatting
+and writing the results of one query overlaps with executing the next: write() only
+puts the result on a bounded queue (waiting if the writer falls behind), and close()
+waits for the queue to drain. The results are written in the order they are given.
+The formats are:
+
+* FILES:  one file per query, named after the query, in a results directory, with one
+          "file,score" line per document (as QueryResult.writeTo() writes them)
+* TREC:   one buffered run file, with one "<query> Q0 <file> <rank> <score> <tag>" line
+          per document, as read by trec_eval (ranks start at 1; scores keep their full
+          precision, so that trec_eval, which sorts by score, keeps the ranking)
+* BINARY: one compact run file, all big-endian (as written by DataOutputStream): the
+          magic "LDAR" and an int version, then, for each query, its name (as
+          writeUTF), an int number of documents, and, for each document, its file key
+          (as writeUTF) and float score
+
+A TREC or BINARY run may also be written to stdout (path "-"), in which case console
+logging is moved to stderr. See RunReader, which reads all three back.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.Enumeration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.apache.log4j.ConsoleAppender;
+import org.apache.log4j.Logger;
+
+class RunWriter implements QueryExecutor.Sink, Closeable {
+
+	private static final Logger logger = Logger.getRootLogger();
+
+	static final byte[] MAGIC = {'L', 'D', 'A', 'R'};
+	static final int VERSION = 1;
+
+	// How many results may wait to be written
+	private static final int QUEUE_SIZE = 1024;
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	enum Format {
+		FILES, TREC, BINARY;
+
+		/**
+		 * Parses "files", "trec" or "binary" (in any case).
+		 */
+		static Format parse(String name) {
+			for (Format f : values()){
+				if (f.name().equalsIgnoreCase(name)){
+					return f;
+				}
+			}
+			throw new IllegalArgumentException("Unknown run format: " + name + " (expected files, trec or binary)");
+		}
+	}
+
+	// Put on the queue by close(), to stop the writer thread
+	private static final QueryResult END = new QueryResult(null, new String[0], new float[0]);
+
+	private final Format format;
+	private final String runTag;
+
+	// The results directory (FILES), or the run file (TREC, BINARY)
+	private final File resultsDir;
+	private final DataOutputStream out;
+	private final boolean closeOut;
+
+	private final BlockingQueue<QueryResult> queue = new ArrayBlockingQueue<QueryResult>(QUEUE_SIZE);
+	private final Thread thread;
+	private volatile Throwable failure;
+	private boolean closed = false;
+
+	/**
+	 * @param path The results directory (FILES; it is created if need be), or the run
+	 *             file (TREC or BINARY; its directory is created if need be), or "-"
+	 *             for stdout
+	 * @param format The format to write
+	 * @param runTag The name of the run, for the last column of a TREC run
+	 */
+	RunWriter(String path, Format format, String runTag) throws IOException {
+		this.format = format;
+		this.runTag = runTag;
+		if (format == Format.FILES){
+			resultsDir = new File(path);
+			if (!resultsDir.exists()){
+				resultsDir.mkdirs();
+			}
+			out = null;
+			closeOut = false;
+		} else {
+			resultsDir = null;
+			closeOut = !path.equals("-");
+			if (!closeOut){
+				logToStderr();
+			} else {
+				File dir = new File(path).getAbsoluteFile().getParentFile();
+				if (dir != null && !dir.exists()){
+					dir.mkdirs();
+				}
+			}
+			OutputStream stream = closeOut ? new FileOutputStream(path) : System.out;
+			out = new DataOutputStream(new BufferedOutputStream(stream, 1 << 16));
+			if (format == Format.BINARY){
+				out.write(MAGIC);
+				out.writeInt(VERSION);
+			}
+		}
+
+		thread = new Thread(new Runnable() {
+			public void run() {
+				drain();
+			}
+		}, "RunWriter");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Queues the given result to be written.
+	 *
+	 * @throws IOException If writing an earlier result failed
+	 */
+	public void write(QueryResult result) throws IOException {
+		check();
+		try {
+			queue.put(result);
+		} catch (InterruptedException e) {
+			throw new IOException("Interrupted while queueing results", e);
+		}
+	}
+
+	/**
+	 * Writes every queued result, and closes the run file (but not stdout).
+	 *
+	 * @throws IOException If writing any result failed
+	 */
+	public void close() throws IOException {
+		if (closed){
+			return;
+		}
+		closed = true;
+		try {
+			queue.put(END);
+			thread.join();
+		} catch (InterruptedException e) {
+			throw new IOException("Interrupted while writing results", e);
+		}
+		check();
+	}
+
+	// Rethrows the writer thread's error, if any
+	private void check() throws IOException {
+		Throwable t = failure;
+		if (t != null){
+			if (t instanceof IOException){
+				throw (IOException) t;
+			}
+			throw new IOException("Error writing results", t);
+		}
+	}
+
+	// Writes the queued results until END (the writer thread). After an error, the
+	// results are still taken off the queue, so that write() and close() never block,
+	// but nothing more is written.
+	private void drain() {
+		while (true){
+			QueryResult result;
+			try {
+				result = queue.take();
+			} catch (InterruptedException e) {
+				fail(e);
+				return;
+			}
+			if (result == END){
+				break;
+			}
+			if (failure == null){
+				try {
+					writeOne(result);
+				} catch (Throwable t) {
+					fail(t);
+				}
+			}
+		}
+		if (out != null){
+			try {
+				if (closeOut){
+					out.close();
+				} else {
+					out.flush();
+				}
+			} catch (IOException e) {
+				fail(e);
+			}
+		}
+	}
+
+	private void fail(Throwable t) {
+		if (failure == null){
+			failure = t;
+			logger.error("Writing results failed", t);
+		}
+	}
+
+	/**
+	 * Moves the root logger's console output (BasicConfigurator logs to stdout) to
+	 * stderr, so that it does not mix with a run written to stdout.
+	 */
+	static void logToStderr() {
+		Enumeration<?> appenders = Logger.getRootLogger().getAllAppenders();
+		while (appenders.hasMoreElements()){
+			Object appender = appenders.nextElement();
+			if (appender instanceof ConsoleAppender
+					&& ConsoleAppender.SYSTEM_OUT.equals(((ConsoleAppender) appender).getTarget())){
+				((ConsoleAppender) appender).setTarget(ConsoleAppender.SYSTEM_ERR);
+				((ConsoleAppender) appender).activateOptions();
+			}
+		}
+	}
+
+	private void writeOne(QueryResult result) throws IOException {
+		if (format == Format.FILES){
+			// (Which times itself)
+			result.writeTo(resultsDir);
+			return;
+		}
+		long start = System.nanoTime();
+		switch (format){
+		case TREC:
+			StringBuilder line = new StringBuilder(64 * Math.max(1, result.size()));
+			for (int i = 0; i < result.size(); ++i){
+				line.append(result.name).append(" Q0 ").append(result.files[i]).append(' ').append(i + 1)
+					.append(' ').append(result.scores[i]).append(' ').append(runTag).append('\n');
+			}
+			out.write(line.toString().getBytes(UTF8));
+			break;
+		case BINARY:
+			out.writeUTF(result.name);
+			out.writeInt(result.size());
+			for (int i = 0; i < result.size(); ++i){
+				out.writeUTF(result.files[i]);
+				out.writeFloat(result.scores[i]);
+			}
+			break;
+		default:
+			break;
+		}
+		Metrics.WRITE.since(start);
+	}
+}
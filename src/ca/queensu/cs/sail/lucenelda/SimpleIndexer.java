@@ -1,118 +1,208 @@
-package ca.queensu.cs.sail.lucenelda;
-
-import java.io.*;
-import java.util.HashMap;
-
-import org.apache.commons.io.FileUtils;
-import org.apache.log4j.Logger;
-import org.apache.lucene.document.Document;
-import org.apache.lucene.document.Field;
-import org.apache.lucene.document.Field.Index;
-import org.apache.lucene.document.Field.Store;
-import org.apache.lucene.document.NumericField;
-import org.apache.lucene.index.IndexWriter;
-import org.apache.lucene.index.IndexWriterConfig;
-import org.apache.lucene.store.Directory;
-import org.apache.lucene.store.FSDirectory;
-import org.apache.lucene.util.Version;
-
-public class SimpleIndexer {
-
-	public static HashMap<String, Integer> fileCodes    = new HashMap<String, Integer>(); 
-	private static final Logger logger = Logger.getRootLogger();
-
-	public SimpleIndexer() {
-		super();
-	}
-	
-	/**
-	 * @author sthomas
-	 * @throws IOException
-	 * 
-	 * Nothing is returned, but the index is written to disk (indexDirName). 
-	 */
-	public static void indexDirectory(String inDirName, String indexDirName, String fileCodeFileName, LDAHelper lda)
-			throws IOException {
-      
-		File inDir         = new File(inDirName);
-		Directory indexDir = FSDirectory.open(new File(indexDirName));
-		
-		SimpleAnalyzer analyzer = new SimpleAnalyzer();
-		
-		IndexWriterConfig indexWriterConfig = new IndexWriterConfig(Version.LUCENE_35, analyzer);
-		IndexWriter writer = new IndexWriter(indexDir, indexWriterConfig);
-		
-		// TODO: is this the best place for this?
-		// Read file code files into the hashmap
-		BufferedReader br = null;
-		try {
-			br = new BufferedReader(new FileReader(fileCodeFileName));
-			String line = null;
-			while ((line = br.readLine()) != null) {
-				String[] values = line.split(",\\s*");
-				fileCodes.put(values[1], Integer.parseInt(values[0]));
-			}
-		} catch (Exception e){
-			e.printStackTrace();
-			return;
-		}
-
-		indexDirectory(writer, inDir, lda);
-		writer.close();
-	}
-
-	/**
-	 * @author sthomas
-	 * @param writer
-	 * @param dir
-	 * @throws IOException
-	 */
-	public static void indexDirectory(IndexWriter writer, File dir, LDAHelper lda) throws IOException {
-		File[] files = dir.listFiles();
-		for (int i = 0; i < files.length; i++) {
-			File f = files[i];
-			if (f.isDirectory()){
-				indexDirectory(writer, f, lda);
-			}
-			//else if (f.getName().endsWith(".java") || f.getName().endsWith(".c") || f.getName().endsWith(".cpp"))
-			else {
-				indexFile(writer, f, lda);
-			}
-		}
-	}
-
-	/**
-	 * @author sthomas
-	 * @param writer
-	 * @param f
-	 * Don't call this one directly; only from recursive starter
-	 * @throws IOException 
-	 */
-	public static void indexFile(IndexWriter writer, File f, LDAHelper lda) throws IOException {
-		if (f.isHidden() || !f.exists() || !f.canRead()){
-			return;
-		}
-		logger.debug("Indexing file " + f.getName());
-		
-		Document doc = new Document();
-		doc.add(new Field("file", fileCodes.get(f.getName()).toString(), Field.Store.YES, Field.Index.NOT_ANALYZED));
-
-		// Add content of file
-		String data = FileUtils.readFileToString(f);
-		data = data.replaceAll("\\n", " ");
-		doc.add(new Field("data", data, Field.Store.YES, Field.Index.ANALYZED));
-
-		// Add LDA topic memberships as one big string: the row of this document in the theta matrix
-		for (int i = 0; i < lda.scens.size(); ++i){
-			int docId = lda.scens.get(i).fileMap.get(f.getName());
-			doc.add(new Field("topics" + lda.scens.get(i).K, lda.encodeTopics(docId, lda.scens.get(i).K), Store.YES, Index.NOT_ANALYZED));
-			doc.add(new Field("topicspayload" + lda.scens.get(i).K, lda.encodeTopicsPayLoad(docId, lda.scens.get(i).K), Store.YES, Index.ANALYZED));
-		}
-
-		try {
-			writer.addDocument(doc);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-	}
-}
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.*;
+import java.util.HashMap;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.log4j.Logger;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.Field.Index;
+import org.apache.lucene.document.Field.Store;
+import org.apache.lucene.document.NumericField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.TieredMergePolicy;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.Version;
+
+public class SimpleIndexer {
+
+	public static HashMap<String, Integer> fileCodes    = new HashMap<String, Integer>(); 
+	private static final Logger logger = Logger.getRootLogger();
+
+	// The path of each document, relative to the indexed directory (the key of the
+	// document when the index is updated; see IndexUpdater), and the last-modified time
+	// and length of its file when it was indexed
+	static final String PATH_FIELD = "path";
+	static final String STAMP_FIELD = "stamp";
+
+	public SimpleIndexer() {
+		super();
+	}
+	
+	/**
+	 * @author sthomas
+	 * @throws IOException
+	 * 
+	 * Nothing is returned, but the index is written to disk (indexDirName). 
+	 */
+	public static void indexDirectory(String inDirName, String indexDirName, String fileCodeFileName, LDAHelper lda)
+			throws IOException {
+		indexDirectory(inDirName, indexDirName, fileCodeFileName, lda, 0, IndexWriterConfig.DEFAULT_RAM_BUFFER_SIZE_MB, 0);
+	}
+
+	/**
+	 * As above, with the indexing tuned:
+	 * 
+	 * @param numThreads The number of indexing threads; 0 means one per available processor
+	 * @param ramBufferMB How much RAM the IndexWriter may use to buffer documents before
+	 *                    flushing a segment
+	 * @param mergeFactor The number of segments merged at once (and allowed per tier of the
+	 *                    merge policy); 0 means Lucene's default
+	 * @throws IOException
+	 */
+	public static void indexDirectory(String inDirName, String indexDirName, String fileCodeFileName, LDAHelper lda,
+			int numThreads, double ramBufferMB, int mergeFactor) throws IOException {
+      
+		File inDir         = new File(inDirName);
+		Directory indexDir = FSDirectory.open(new File(indexDirName));
+		
+		IndexWriterConfig indexWriterConfig = newWriterConfig(numThreads, ramBufferMB, mergeFactor);
+		
+		if (!readFileCodes(fileCodeFileName)){
+			return;
+		}
+
+		IndexWriter writer = new IndexWriter(indexDir, indexWriterConfig);
+		try {
+			new IndexingPipeline(writer, lda, numThreads).run(inDir);
+		} finally {
+			long start = System.nanoTime();
+			writer.close();
+			Metrics.COMMIT.since(start);
+		}
+	}
+
+	/**
+	 * Returns the configuration of an IndexWriter, tuned as in indexDirectory().
+	 */
+	static IndexWriterConfig newWriterConfig(int numThreads, double ramBufferMB, int mergeFactor) {
+		IndexWriterConfig indexWriterConfig = new IndexWriterConfig(Version.LUCENE_35, new SimpleAnalyzer());
+		indexWriterConfig.setRAMBufferSizeMB(ramBufferMB);
+		if (mergeFactor > 0){
+			TieredMergePolicy mergePolicy = new TieredMergePolicy();
+			mergePolicy.setMaxMergeAtOnce(mergeFactor);
+			mergePolicy.setSegmentsPerTier(mergeFactor);
+			indexWriterConfig.setMergePolicy(mergePolicy);
+		}
+		// Let every indexing thread have its own in-memory segment
+		if (numThreads > indexWriterConfig.getMaxThreadStates()){
+			indexWriterConfig.setMaxThreadStates(numThreads);
+		}
+		return indexWriterConfig;
+	}
+
+	/**
+	 * Reads the file codes file (lines of "code, fileName") into fileCodes. Returns false
+	 * (after printing the error) if it cannot be read.
+	 */
+	static boolean readFileCodes(String fileCodeFileName) {
+		// TODO: is this the best place for this?
+		BufferedReader br = null;
+		try {
+			br = new BufferedReader(new FileReader(fileCodeFileName));
+			String line = null;
+			while ((line = br.readLine()) != null) {
+				String[] values = line.split(",\\s*");
+				fileCodes.put(values[1], Integer.parseInt(values[0]));
+			}
+			br.close();
+		} catch (Exception e){
+			e.printStackTrace();
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @author sthomas
+	 * @param writer
+	 * @param dir
+	 * @throws IOException
+	 * 
+	 * Indexes the directory on a single thread.
+	 */
+	public static void indexDirectory(IndexWriter writer, File dir, LDAHelper lda) throws IOException {
+		new IndexingPipeline(writer, lda, 1).run(dir);
+	}
+
+	/**
+	 * @author sthomas
+	 * @param writer
+	 * @param f
+	 * Don't call this one directly; only from recursive starter
+	 * @throws IOException 
+	 */
+	public static void indexFile(IndexWriter writer, File f, LDAHelper lda) throws IOException {
+		Document doc = buildDocument(f, f.getPath(), lda);
+		if (doc == null){
+			return;
+		}
+
+		try {
+			long start = System.nanoTime();
+			writer.addDocument(doc);
+			Metrics.ADD_DOCUMENT.since(start);
+			Metrics.DOCUMENTS.increment();
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Reads the given file and builds its Document, or returns null if the file should be
+	 * skipped. This is safe to call from several threads at once.
+	 * 
+	 * @param path The path of the file, relative to the indexed directory (see relativePath())
+	 */
+	static Document buildDocument(File f, String path, LDAHelper lda) throws IOException {
+		if (f.isHidden() || !f.exists() || !f.canRead()){
+			return null;
+		}
+		logger.debug("Indexing file " + f.getName());
+		
+		Document doc = new Document();
+		doc.add(new Field("file", fileCodes.get(f.getName()).toString(), Field.Store.YES, Field.Index.NOT_ANALYZED));
+		doc.add(new Field(PATH_FIELD, path, Field.Store.YES, Field.Index.NOT_ANALYZED_NO_NORMS));
+		doc.add(new Field(STAMP_FIELD, stamp(f), Field.Store.YES, Field.Index.NO));
+
+		// Add content of file
+		long t = System.nanoTime();
+		String data = FileUtils.readFileToString(f);
+		data = data.replace('\n', ' ');
+		doc.add(new Field("data", data, Field.Store.YES, Field.Index.ANALYZED));
+		t = Metrics.READ_FILE.since(t);
+
+		// Add LDA topic memberships as a compact binary value: the row of this document in the theta matrix
+		for (int i = 0; i < lda.scens.size(); ++i){
+			int docId = lda.scens.get(i).getFileId(f.getName());
+			doc.add(new Field(TopicVectorColumn.FIELD_PREFIX + lda.scens.get(i).K, lda.encodeTopicVector(docId, lda.scens.get(i).K)));
+			doc.add(new Field("topicspayload" + lda.scens.get(i).K, lda.encodeTopicsPayLoad(docId, lda.scens.get(i).K), Store.YES, Index.ANALYZED));
+		}
+		Metrics.ENCODE_TOPICS.since(t);
+		return doc;
+	}
+
+	/**
+	 * Returns the path of f relative to the directory root, with '/' separators.
+	 */
+	static String relativePath(File root, File f) {
+		String rootPath = root.getPath();
+		String path = f.getPath();
+		if (path.startsWith(rootPath) && path.length() > rootPath.length()){
+			path = path.substring(rootPath.length() + 1);
+		}
+		return path.replace(File.separatorChar, '/');
+	}
+
+	/**
+	 * Returns the last-modified time and length of the given file, as stored in the
+	 * STAMP_FIELD of its document. If the stamp of a file changes, it is re-indexed
+	 * by an update.
+	 */
+	static String stamp(File f) {
+		return f.lastModified() + ":" + f.length();
+	}
+}
@@ -0,0 +1,247 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+SparseTheta.java
+
+The theta matrix (D x K topic memberships) of one LDA scenario, in compressed-sparse-row
+form: one offsets array, plus parallel arrays of topic ids and weights. Only the weights
+greater than a threshold are kept; most documents are in only a few topics, so this is a
+fraction of the size of the dense matrix (for 2M documents and K=500, a dense theta is
+4 GB of heap).
+
+Each document's entries are in order of topic. The threshold is chosen by the user (see
+LDAHelper.setThetaThreshold()); with a threshold of 0, only exact zeros are dropped and
+every value is the same as in the dense matrix. When a sparse theta is built, the memory
+it saves and the share of the L1 mass (the sum of all weights) that it drops are logged.
+The threshold is kept with the theta (and saved with it; see LDAModelFile), so that rows
+added later (see withRows() and IndexUpdater) are kept the same way.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.log4j.Logger;
+
+class SparseTheta implements FloatMatrix {
+
+	private static final Logger logger = Logger.getRootLogger();
+
+	// The largest K that fits in the (unsigned) short topic ids
+	static final int MAX_K = TermTopicIndex.MAX_K;
+
+	final int D;
+	final int K;
+
+	// Row d holds entries offsets[d] .. offsets[d+1]-1
+	final int[] offsets;
+	final short[] topics;
+	final float[] weights;
+
+	// Only the weights greater than this were kept
+	final float threshold;
+
+	SparseTheta(int K, int[] offsets, short[] topics, float[] weights, float threshold) {
+		this.D = offsets.length - 1;
+		this.K = K;
+		this.offsets = offsets;
+		this.topics = topics;
+		this.weights = weights;
+		this.threshold = threshold;
+	}
+
+	/**
+	 * Builds a sparse theta from the rows of a dense one, keeping the weights greater
+	 * than threshold.
+	 */
+	static SparseTheta fromRows(float[][] rows, int K, float threshold) {
+		Builder builder = new Builder(0, K, threshold);
+		for (int d = 0; d < rows.length; ++d){
+			builder.addRow(rows[d]);
+		}
+		return Builder.build(Arrays.asList(builder), rows.length, K, threshold);
+	}
+
+	public int rows() {
+		return D;
+	}
+
+	public int cols() {
+		return K;
+	}
+
+	public float get(int row, int col) {
+		// A binary search of the row; topic ids are unsigned
+		int lo = offsets[row];
+		int hi = offsets[row + 1] - 1;
+		while (lo <= hi){
+			int mid = (lo + hi) >>> 1;
+			int k = topics[mid] & 0xffff;
+			if (k < col){
+				lo = mid + 1;
+			} else if (k > col){
+				hi = mid - 1;
+			} else {
+				return weights[mid];
+			}
+		}
+		return 0f;
+	}
+
+	// The number of (topic, weight) pairs kept
+	int size() {
+		return weights.length;
+	}
+
+	// The number of bytes held by the arrays
+	long bytes() {
+		return 4L * offsets.length + 6L * weights.length;
+	}
+
+	/**
+	 * Returns the dot product of row d and the given (length K) vector.
+	 */
+	float dot(int d, float[] query) {
+		float result = 0;
+		int end = offsets[d + 1];
+		for (int i = offsets[d]; i < end; ++i){
+			result += weights[i] * query[topics[i] & 0xffff];
+		}
+		return result;
+	}
+
+
+	/**
+	 * Returns a copy of this theta with the given (dense, length K) rows appended, keeping
+	 * their weights greater than this theta's threshold.
+	 */
+	SparseTheta withRows(float[][] rows) {
+		Builder builder = new Builder(0, K, threshold);
+		for (float[] row : rows){
+			builder.addRow(row);
+		}
+		int nnz = weights.length + builder.size;
+		int[] newOffsets = Arrays.copyOf(offsets, D + rows.length + 1);
+		for (int r = 0; r < rows.length; ++r){
+			newOffsets[D + 1 + r] = offsets[D] + builder.rowEnds[r];
+		}
+		short[] newTopics = Arrays.copyOf(topics, nnz);
+		float[] newWeights = Arrays.copyOf(weights, nnz);
+		System.arraycopy(builder.topics, 0, newTopics, weights.length, builder.size);
+		System.arraycopy(builder.weights, 0, newWeights, weights.length, builder.size);
+		return new SparseTheta(K, newOffsets, newTopics, newWeights, threshold);
+	}
+
+
+	/**
+	 * Accumulates a run of consecutive rows, starting at firstRow. Several builders may
+	 * fill disjoint runs of rows at once (one per thread), and are then concatenated
+	 * by build().
+	 */
+	static class Builder {
+
+		final int firstRow;
+		private final int K;
+		private final float threshold;
+
+		// Row firstRow+r holds entries rowEnds[r-1] .. rowEnds[r]-1 (rowEnds[-1] = 0)
+		private int[] rowEnds = new int[64];
+		private int numRows = 0;
+		private short[] topics = new short[1024];
+		private float[] weights = new float[1024];
+		private int size = 0;
+
+		// The L1 mass of every weight seen, and of those dropped
+		private double totalMass = 0;
+		private double droppedMass = 0;
+
+		Builder(int firstRow, int K, float threshold) {
+			if (K > MAX_K){
+				throw new IllegalArgumentException("K=" + K + " is too large for a sparse theta (max " + MAX_K + ")");
+			}
+			this.firstRow = firstRow;
+			this.K = K;
+			this.threshold = threshold;
+		}
+
+		/**
+		 * Appends the next row (of length K).
+		 */
+		void addRow(float[] row) {
+			if (size + K > weights.length){
+				int capacity = Math.max(2 * weights.length, size + K);
+				topics = Arrays.copyOf(topics, capacity);
+				weights = Arrays.copyOf(weights, capacity);
+			}
+			for (int k = 0; k < K; ++k){
+				float weight = row[k];
+				totalMass += Math.abs(weight);
+				if (weight > threshold){
+					topics[size] = (short) k;
+					weights[size] = weight;
+					++size;
+				} else {
+					droppedMass += Math.abs(weight);
+				}
+			}
+			if (numRows == rowEnds.length){
+				rowEnds = Arrays.copyOf(rowEnds, 2 * rowEnds.length);
+			}
+			rowEnds[numRows++] = size;
+		}
+
+		/**
+		 * Concatenates the rows of the given builders (which must not overlap) into a
+		 * sparse theta of numRows rows; rows that no builder filled are empty. Logs the
+		 * memory saved and the L1 mass dropped.
+		 */
+		static SparseTheta build(List<Builder> parts, int numRows, int K, float threshold) {
+			long nnz = 0;
+			double totalMass = 0;
+			double droppedMass = 0;
+			for (Builder b : parts){
+				nnz += b.size;
+				totalMass += b.totalMass;
+				droppedMass += b.droppedMass;
+			}
+			if (nnz > Integer.MAX_VALUE){
+				throw new IllegalArgumentException("Too many weights (" + nnz + ") for a sparse theta; use a higher threshold");
+			}
+
+			// Row counts first, then offsets, then the entries of each part
+			int[] offsets = new int[numRows + 1];
+			for (Builder b : parts){
+				int prev = 0;
+				for (int r = 0; r < b.numRows; ++r){
+					offsets[b.firstRow + r + 1] = b.rowEnds[r] - prev;
+					prev = b.rowEnds[r];
+				}
+			}
+			for (int d = 0; d < numRows; ++d){
+				offsets[d + 1] += offsets[d];
+			}
+			short[] topics = new short[(int) nnz];
+			float[] weights = new float[(int) nnz];
+			for (Builder b : parts){
+				int pos = offsets[b.firstRow];
+				System.arraycopy(b.topics, 0, topics, pos, b.size);
+				System.arraycopy(b.weights, 0, weights, pos, b.size);
+			}
+
+			SparseTheta theta = new SparseTheta(K, offsets, topics, weights, threshold);
+			long dense = 4L * numRows * K;
+			logger.info(String.format("Sparse theta for K=%d (threshold %g): %d of %d weights kept (%.1f%%), "
+					+ "%.1f MB instead of %.1f MB (%.1f MB saved), %.4f%% of the L1 mass dropped",
+					K, threshold, nnz, (long) numRows * K, 100.0 * nnz / Math.max(1L, (long) numRows * K),
+					theta.bytes() / (double) (1 << 20), dense / (double) (1 << 20),
+					(dense - theta.bytes()) / (double) (1 << 20), 100.0 * droppedMass / Math.max(totalMass, Double.MIN_VALUE)));
+			return theta;
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+TermTopicIndex.java
+
+A word-major, sparse copy of the phi matrix of one LDA scenario: for each term in the
+vocabulary, the (topic, weight) pairs in which the term has a weight greater than some
+epsilon, stored in compressed-sparse-row form (one offsets array, plus parallel arrays
+of topic ids and weights).
+
+With this, the topic vector of a query is accumulated in O(nnz) of its terms, rather
+than by visiting every (topic, term) pair of a K x W matrix that is stored topic-major.
+
+With an epsilon of 0, only exact zeros are dropped, and the accumulated topic vectors
+are identical to those computed from the dense phi matrix.
+
+If the scenario's phi is quantized (see QuantizedPhi), the index keeps the same codes
+(half-floats, or bytes with a scale per topic) instead of float weights, and decodes them
+as it accumulates.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import org.apache.log4j.Logger;
+
+class TermTopicIndex {
+
+	private static final Logger logger = Logger.getRootLogger();
+
+	// The largest K that fits in the (unsigned) short topic ids
+	static final int MAX_K = 0xffff;
+
+	// Row w holds entries offsets[w] .. offsets[w+1]-1. Exactly one of weights,
+	// halfWeights and byteWeights is set, depending on how phi is stored.
+	private final int[] offsets;
+	private final short[] topics;
+	private final float[] weights;
+	private final short[] halfWeights;
+	private final byte[] byteWeights;
+
+	// For byteWeights: the scale of each topic
+	private final float[] scales;
+
+	private TermTopicIndex(int[] offsets, short[] topics, float[] weights, short[] halfWeights,
+			byte[] byteWeights, float[] scales) {
+		this.offsets = offsets;
+		this.topics = topics;
+		this.weights = weights;
+		this.halfWeights = halfWeights;
+		this.byteWeights = byteWeights;
+		this.scales = scales;
+	}
+
+	/**
+	 * Builds the index from the phi matrix of the given scenario, keeping the weights
+	 * greater than epsilon. Each term's entries are in order of topic.
+	 */
+	static TermTopicIndex build(LDAHelper.LDAK ldak, float epsilon) {
+		if (ldak.K > MAX_K){
+			throw new IllegalArgumentException("K=" + ldak.K + " is too large for a term-topic index (max " + MAX_K + ")");
+		}
+
+		// First pass: count the entries of each term. (Both passes walk phi in the
+		// order it is stored: topic-major.)
+		int[] offsets = new int[ldak.W + 1];
+		for (int k = 0; k < ldak.K; ++k){
+			for (int w = 0; w < ldak.W; ++w){
+				if (ldak.getPhi(k, w) > epsilon){
+					++offsets[w + 1];
+				}
+			}
+		}
+		for (int w = 0; w < ldak.W; ++w){
+			offsets[w + 1] += offsets[w];
+		}
+
+		// Second pass: fill in the entries
+		int nnz = offsets[ldak.W];
+		QuantizedPhi quantized = ldak.phiStore instanceof QuantizedPhi ? (QuantizedPhi) ldak.phiStore : null;
+		QuantizedPhi.Encoding encoding = quantized != null ? quantized.encoding : null;
+		short[] topics = new short[nnz];
+		float[] weights = encoding == null ? new float[nnz] : null;
+		short[] halfWeights = encoding == QuantizedPhi.Encoding.HALF ? new short[nnz] : null;
+		byte[] byteWeights = encoding == QuantizedPhi.Encoding.BYTE ? new byte[nnz] : null;
+		int[] next = new int[ldak.W];
+		System.arraycopy(offsets, 0, next, 0, ldak.W);
+		for (int k = 0; k < ldak.K; ++k){
+			for (int w = 0; w < ldak.W; ++w){
+				float weight = ldak.getPhi(k, w);
+				if (weight > epsilon){
+					int pos = next[w]++;
+					topics[pos] = (short) k;
+					if (weights != null){
+						weights[pos] = weight;
+					} else if (halfWeights != null){
+						halfWeights[pos] = (short) quantized.code(k, w);
+					} else {
+						byteWeights[pos] = (byte) quantized.code(k, w);
+					}
+				}
+			}
+		}
+
+		long dense = (long) ldak.K * ldak.W;
+		int weightBytes = encoding == null ? 4 : encoding.bytes;
+		logger.info(String.format("Built term-topic index for K=%d: %d of %d weights kept (%.1f%%), %.1f MB",
+				ldak.K, nnz, dense, 100.0 * nnz / Math.max(dense, 1),
+				(4.0 * offsets.length + (2.0 + weightBytes) * nnz) / (1 << 20)));
+		return new TermTopicIndex(offsets, topics, weights, halfWeights, byteWeights,
+				encoding == QuantizedPhi.Encoding.BYTE ? quantized.scales : null);
+	}
+
+	/**
+	 * Adds the (topic, weight) pairs of the given term to scores (of length K).
+	 */
+	void accumulate(int termId, float[] scores) {
+		accumulate(termId, scores, 0);
+	}
+
+	/**
+	 * As above, into scores[offset .. offset+K).
+	 */
+	void accumulate(int termId, float[] scores, int offset) {
+		int end = offsets[termId + 1];
+		if (weights != null){
+			for (int i = offsets[termId]; i < end; ++i){
+				scores[offset + (topics[i] & 0xffff)] += weights[i];
+			}
+		} else if (halfWeights != null){
+			float[] table = QuantizedPhi.HALF_TO_FLOAT;
+			for (int i = offsets[termId]; i < end; ++i){
+				scores[offset + (topics[i] & 0xffff)] += table[halfWeights[i] & 0xffff];
+			}
+		} else {
+			for (int i = offsets[termId]; i < end; ++i){
+				int k = topics[i] & 0xffff;
+				scores[offset + k] += (byteWeights[i] & 0xff) * scales[k];
+			}
+		}
+	}
+
+	// The number of (topic, weight) pairs in the index
+	int size() {
+		return topics.length;
+	}
+}
@@ -0,0 +1,168 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+TopKRanker.java
+
+Keeps the k best (docId, score) pairs offered to it, in parallel int and float arrays
+arranged as a bounded min-heap, and finally sorts them best first. Documents with equal
+scores are all kept (nothing is keyed on the score), and ties are always broken by
+docId, smallest first, so the ranking is stable no matter in which order the documents
+were offered. This matches Lucene's own TopScoreDocCollector.
+
+A ranker allocates nothing after construction, so one instance per thread can be reused
+for every query (see reset()).
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.IOException;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.Scorer;
+
+class TopKRanker {
+
+	private int k;
+	private int size;
+	private int[] docs;
+	private float[] scores;
+
+	TopKRanker(int k) {
+		this.docs = new int[k];
+		this.scores = new float[k];
+		reset(k);
+	}
+
+	/**
+	 * Empties the ranker, so that it can be reused to keep the k best of a new set of
+	 * documents. The arrays only grow if k is larger than any k used before.
+	 */
+	void reset(int k) {
+		this.k = k;
+		this.size = 0;
+		if (docs.length < k){
+			docs = new int[k];
+			scores = new float[k];
+		}
+	}
+
+	/**
+	 * Offers a document; it is kept if it is among the k best seen so far.
+	 */
+	void offer(int doc, float score) {
+		if (size < k){
+			docs[size] = doc;
+			scores[size] = score;
+			siftUp(size++);
+		} else if (k > 0 && worse(docs[0], scores[0], doc, score)){
+			docs[0] = doc;
+			scores[0] = score;
+			siftDown(0, size);
+		}
+	}
+
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Sorts the kept documents, best first. After this, doc(i) and score(i) return the
+	 * i'th best document; nothing more should be offered until the next reset().
+	 */
+	void sort() {
+		// Heap sort: repeatedly move the worst remaining document to the end
+		for (int n = size - 1; n > 0; --n){
+			swap(0, n);
+			siftDown(0, n);
+		}
+	}
+
+	int doc(int i) {
+		return docs[i];
+	}
+
+	float score(int i) {
+		return scores[i];
+	}
+
+	// Is (doc1, score1) ranked below (doc2, score2)?
+	private static boolean worse(int doc1, float score1, int doc2, float score2) {
+		return score1 < score2 || (score1 == score2 && doc1 > doc2);
+	}
+
+	private void siftUp(int i) {
+		while (i > 0){
+			int parent = (i - 1) >>> 1;
+			if (!worse(docs[i], scores[i], docs[parent], scores[parent])){
+				break;
+			}
+			swap(i, parent);
+			i = parent;
+		}
+	}
+
+	private void siftDown(int i, int n) {
+		while (true){
+			int child = 2 * i + 1;
+			if (child >= n){
+				break;
+			}
+			if (child + 1 < n && worse(docs[child + 1], scores[child + 1], docs[child], scores[child])){
+				++child;
+			}
+			if (!worse(docs[child], scores[child], docs[i], scores[i])){
+				break;
+			}
+			swap(i, child);
+			i = child;
+		}
+	}
+
+	private void swap(int i, int j) {
+		int d = docs[i];
+		docs[i] = docs[j];
+		docs[j] = d;
+		float s = scores[i];
+		scores[i] = scores[j];
+		scores[j] = s;
+	}
+
+
+	/**
+	 * A Lucene Collector that offers every matching document (with its top-level docId)
+	 * to the given ranker.
+	 */
+	static class TopKCollector extends Collector {
+
+		private final TopKRanker ranker;
+		private Scorer scorer;
+		private int docBase;
+
+		TopKCollector(TopKRanker ranker) {
+			this.ranker = ranker;
+		}
+
+		public void setScorer(Scorer scorer) {
+			this.scorer = scorer;
+		}
+
+		public void collect(int doc) throws IOException {
+			ranker.offer(docBase + doc, scorer.score());
+		}
+
+		public void setNextReader(IndexReader reader, int docBase) {
+			this.docBase = docBase;
+		}
+
+		public boolean acceptsDocsOutOfOrder() {
+			// Ties are broken by docId, so the order does not matter
+			return true;
+		}
+	}
+}
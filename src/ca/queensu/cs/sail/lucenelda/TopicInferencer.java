@@ -0,0 +1,262 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+TopicInferencer.java
+
+Estimates the topic memberships (a row of theta) of a document that LDA was not trained
+on, by "folding it in" to a trained scenario: the topics (phi) are held fixed, and a
+collapsed Gibbs sampler assigns a topic to each of the document's tokens, where the
+probability of topic k for a token of word w is
+
+    (alpha + n_k) * phi[k][w],
+
+and n_k is the number of the document's other tokens assigned to k. The counts are
+averaged over the second half of the sweeps, and theta is estimated as
+
+    (alpha + n_k) / (N + K*alpha),
+
+as GibbsLDATrainer does for the training documents. Terms that are not in the
+vocabulary of the scenario are ignored; a document with no known terms gets a uniform
+theta.
+
+This is used for files that are not in the LDA output (files.dat) of a scenario, for
+files that changed since the index was built (see IndexUpdater), and, optionally, for
+queries (see LDAQueryEngine).
+
+An inferencer may be used by several threads at once: each thread has its own random
+number generator and scratch buffers. The generator is re-seeded for every document,
+from the seed and the document's terms, so the theta of a document does not depend on
+which thread inferred it, or on what it inferred before. infer(List, int) folds in a
+list of files in parallel.
+
+The column of phi for each term is read from the scenario's term-topic index (see
+TermTopicIndex), so a quantized phi is used as it is stored.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.log4j.Logger;
+
+class TopicInferencer {
+
+	private static final Logger logger = Logger.getRootLogger();
+
+	// The number of files folded in by one task of infer(List, int)
+	private static final int FILES_PER_TASK = 64;
+
+	private final LDAHelper.LDAK ldak;
+	private final int K;
+	private final long seed;
+	private int numIterations = 50;
+	private double alpha = 0.1;
+
+	// The scratch state of one thread
+	private class Scratch {
+		final XorShiftRandom random = new XorShiftRandom(0);
+
+		// The topic of each known token of the document
+		int[] z = new int[256];
+
+		// The column of phi of each distinct term (slot s is columns[s*K .. s*K+K-1]),
+		// and the slot of each known token
+		final HashMap<Integer, Integer> slots = new HashMap<Integer, Integer>();
+		float[] columns = new float[16 * K];
+		int[] slotOf = new int[256];
+
+		final int[] nk = new int[K];
+		final long[] sums = new long[K];
+		final double[] p = new double[K];
+	}
+
+	private final ThreadLocal<Scratch> scratch = new ThreadLocal<Scratch>() {
+		protected Scratch initialValue() {
+			return new Scratch();
+		}
+	};
+
+	/**
+	 * @param ldak The (trained) scenario to fold documents in to
+	 * @param seed The seed of the sampler
+	 */
+	TopicInferencer(LDAHelper.LDAK ldak, long seed) {
+		this.ldak = ldak;
+		this.K = ldak.K;
+		this.seed = seed;
+		// Build the term-topic index now, rather than in the first thread to need it
+		ldak.getTermTopics();
+	}
+
+	// The number of sweeps over each document
+	void setIterations(int numIterations) {
+		this.numIterations = Math.max(1, numIterations);
+	}
+
+	// The (symmetric) Dirichlet prior on the topics of each document
+	void setAlpha(double alpha) {
+		this.alpha = alpha;
+	}
+
+	/**
+	 * Returns the estimated theta (of length K) of the document with the given terms.
+	 */
+	float[] infer(String[] terms) {
+		Scratch s = scratch.get();
+		s.random.setSeed(seed * 31 + Arrays.hashCode(terms));
+
+		// The ids of the known terms, and the column of phi of each distinct one
+		if (s.z.length < terms.length){
+			s.z = new int[terms.length];
+			s.slotOf = new int[terms.length];
+		}
+		s.slots.clear();
+		int N = 0;
+		for (String term : terms){
+			int w = ldak.getTermId(term);
+			if (w < 0){
+				continue;
+			}
+			Integer slot = s.slots.get(w);
+			if (slot == null){
+				slot = s.slots.size();
+				s.slots.put(w, slot);
+				if ((slot + 1) * K > s.columns.length){
+					s.columns = Arrays.copyOf(s.columns, 2 * (slot + 1) * K);
+				}
+				Arrays.fill(s.columns, slot * K, (slot + 1) * K, 0f);
+				ldak.getTermTopics().accumulate(w, s.columns, slot * K);
+			}
+			s.slotOf[N] = slot;
+			++N;
+		}
+
+		float[] theta = new float[K];
+		if (N == 0){
+			Arrays.fill(theta, 1f / K);
+			return theta;
+		}
+
+		// Start from the most likely topic of each token
+		float[] columns = s.columns;
+		int[] z = s.z;
+		int[] nk = s.nk;
+		long[] sums = s.sums;
+		double[] p = s.p;
+		Arrays.fill(nk, 0);
+		Arrays.fill(sums, 0);
+		for (int i = 0; i < N; ++i){
+			int base = s.slotOf[i] * K;
+			int best = 0;
+			for (int k = 1; k < K; ++k){
+				if (columns[base + k] > columns[base + best]){
+					best = k;
+				}
+			}
+			z[i] = best;
+			++nk[best];
+		}
+
+		int numSamples = 0;
+		for (int iter = 0; iter < numIterations; ++iter){
+			for (int i = 0; i < N; ++i){
+				--nk[z[i]];
+				int base = s.slotOf[i] * K;
+				double total = 0;
+				for (int k = 0; k < K; ++k){
+					total += (alpha + nk[k]) * columns[base + k];
+					p[k] = total;
+				}
+				int k;
+				if (total > 0){
+					double u = s.random.nextDouble() * total;
+					k = 0;
+					while (k < K - 1 && p[k] <= u){
+						++k;
+					}
+				} else {
+					k = s.random.nextInt(K);
+				}
+				z[i] = k;
+				++nk[k];
+			}
+			if (2 * iter >= numIterations - 1){
+				for (int k = 0; k < K; ++k){
+					sums[k] += nk[k];
+				}
+				++numSamples;
+			}
+		}
+
+		double denom = N + K * alpha;
+		for (int k = 0; k < K; ++k){
+			theta[k] = (float) (((double) sums[k] / numSamples + alpha) / denom);
+		}
+		return theta;
+	}
+
+	/**
+	 * Folds in every given file (whose terms are its white-space delimited tokens, as in
+	 * Corpus), on the given number of threads, and returns their rows of theta, in order.
+	 *
+	 * @param numThreads The number of threads; 0 means one per available processor
+	 */
+	float[][] infer(final List<File> files, int numThreads) throws IOException {
+		numThreads = numThreads > 0 ? numThreads : Runtime.getRuntime().availableProcessors();
+		long start = System.nanoTime();
+		final float[][] theta = new float[files.size()][];
+
+		ExecutorService pool = Executors.newFixedThreadPool(numThreads);
+		try {
+			List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+			for (int from = 0; from < files.size(); from += FILES_PER_TASK){
+				final int first = from;
+				final int last = Math.min(files.size(), from + FILES_PER_TASK);
+				tasks.add(new Callable<Void>() {
+					public Void call() throws IOException {
+						for (int d = first; d < last; ++d){
+							String data = FileUtils.readFileToString(files.get(d)).trim();
+							theta[d] = infer(data.length() == 0 ? new String[0] : data.split("\\s+"));
+						}
+						return null;
+					}
+				});
+			}
+			for (Future<Void> result : pool.invokeAll(tasks)){
+				try {
+					result.get();
+				} catch (ExecutionException e) {
+					if (e.getCause() instanceof IOException){
+						throw (IOException) e.getCause();
+					}
+					throw new IOException("Error folding in documents", e.getCause());
+				}
+			}
+		} catch (InterruptedException e) {
+			throw new IOException("Interrupted while folding in documents", e);
+		} finally {
+			pool.shutdownNow();
+		}
+
+		double seconds = (System.nanoTime() - start) / 1e9;
+		logger.info(String.format("Folded %d document(s) in to K=%d in %.3f s (%.1f docs/sec) on %d thread(s)",
+				files.size(), K, seconds, files.size() / Math.max(seconds, 1e-9), numThreads));
+		return theta;
+	}
+}
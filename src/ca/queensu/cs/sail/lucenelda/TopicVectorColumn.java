@@ -0,0 +1,267 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+TopicVectorColumn.java
+
+The topic vectors (rows of theta) of every document in an index, for one LDA scenario,
+held as one packed float array that is addressed by Lucene docId. If the vectors were
+indexed in sparse form (from a sparse theta; see SparseTheta), the column is sparse too:
+compressed-sparse-row arrays of topic ids and weights, and dot products only visit each
+document's nonzero topics.
+
+At index time, SimpleIndexer stores each document's topic vector as a small binary
+field, "topicvector"+K (see LDAHelper.encodeTopicVector()). The first time a column is
+requested for a segment, those fields are read once (no other stored field is loaded)
+and the column is cached for as long as the segment is open. After that, reranking is a
+primitive dot product, with no stored-field loading and no string parsing.
+
+Columns are built and cached per segment. A column for a composite (top-level) reader
+simply delegates to the columns of its segments. A segment with live documents but no
+topic vector field (e.g., one indexed by an older version) is an error, rather than a
+column of zeros that would score every document 0.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.FieldSelector;
+import org.apache.lucene.document.FieldSelectorResult;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.util.ReaderUtil;
+
+class TopicVectorColumn {
+
+	// The prefix of the binary stored field that holds a document's topic vector
+	static final String FIELD_PREFIX = "topicvector";
+
+	// Columns are cached per (segment core, K)
+	private static final Map<Object, Map<Integer, TopicVectorColumn>> cache =
+		new WeakHashMap<Object, Map<Integer, TopicVectorColumn>>();
+
+	final int K;
+
+	// For a dense segment: maxDoc x K topic memberships, row-major
+	private final float[] vectors;
+
+	// For a sparse segment: document d holds entries offsets[d] .. offsets[d+1]-1
+	private final int[] offsets;
+	private final short[] topics;
+	private final float[] weights;
+
+	// For a composite reader: the columns of the segments, and their first docIds
+	private final TopicVectorColumn[] subs;
+	private final int[] starts;
+
+	private TopicVectorColumn(int K, float[] vectors) {
+		this.K = K;
+		this.vectors = vectors;
+		this.offsets = null;
+		this.topics = null;
+		this.weights = null;
+		this.subs = null;
+		this.starts = null;
+	}
+
+	private TopicVectorColumn(int K, int[] offsets, short[] topics, float[] weights) {
+		this.K = K;
+		this.vectors = null;
+		this.offsets = offsets;
+		this.topics = topics;
+		this.weights = weights;
+		this.subs = null;
+		this.starts = null;
+	}
+
+	private TopicVectorColumn(int K, TopicVectorColumn[] subs, int[] starts) {
+		this.K = K;
+		this.vectors = null;
+		this.offsets = null;
+		this.topics = null;
+		this.weights = null;
+		this.subs = subs;
+		this.starts = starts;
+	}
+
+	/**
+	 * Returns the column of topic vectors for the given reader and scenario, building
+	 * (and caching) it if necessary.
+	 */
+	static TopicVectorColumn get(IndexReader reader, int K) throws IOException {
+		// The lock is held while a column is built, so that concurrent queries wait for
+		// one build rather than all loading the same column.
+		synchronized (cache){
+			Object key = reader.getCoreCacheKey();
+			Map<Integer, TopicVectorColumn> byK = cache.get(key);
+			if (byK == null){
+				byK = new HashMap<Integer, TopicVectorColumn>();
+				cache.put(key, byK);
+			}
+			TopicVectorColumn column = byK.get(K);
+			if (column != null){
+				return column;
+			}
+
+			if (reader.getSequentialSubReaders() == null){
+				column = load(reader, K);
+			} else {
+				List<IndexReader> segments = new ArrayList<IndexReader>();
+				ReaderUtil.gatherSubReaders(segments, reader);
+				TopicVectorColumn[] subs = new TopicVectorColumn[segments.size()];
+				int[] starts = new int[segments.size()];
+				int start = 0;
+				for (int i = 0; i < subs.length; ++i){
+					subs[i] = get(segments.get(i), K);
+					starts[i] = start;
+					start += segments.get(i).maxDoc();
+				}
+				column = new TopicVectorColumn(K, subs, starts);
+			}
+			byK.put(K, column);
+			return column;
+		}
+	}
+
+	// Reads the topic vector field of every document in a segment
+	private static TopicVectorColumn load(IndexReader segment, int K) throws IOException {
+		final String field = FIELD_PREFIX + K;
+		FieldSelector selector = new FieldSelector() {
+			private static final long serialVersionUID = 1L;
+			public FieldSelectorResult accept(String fieldName) {
+				return field.equals(fieldName) ? FieldSelectorResult.LOAD_AND_BREAK : FieldSelectorResult.NO_LOAD;
+			}
+		};
+
+		// The column is dense or sparse, as the first topic vector in the segment is
+		int maxDoc = segment.maxDoc();
+		float[] vectors = null;
+		int[] offsets = null;
+		short[] topics = null;
+		float[] weights = null;
+		float[] row = null;
+		int size = 0;
+		for (int doc = 0; doc < maxDoc; ++doc){
+			byte[] encoded = null;
+			if (!segment.isDeleted(doc)){
+				Document d = segment.document(doc, selector);
+				encoded = d.getBinaryValue(field);
+			}
+			if (encoded != null && vectors == null && offsets == null){
+				if (LDAHelper.isSparseTopicVector(encoded)){
+					offsets = new int[maxDoc + 1];
+					topics = new short[(int) Math.min(Integer.MAX_VALUE, Math.max(16, 4L * maxDoc))];
+					weights = new float[topics.length];
+					row = new float[K];
+				} else {
+					vectors = denseVectors(maxDoc, K);
+				}
+			}
+
+			if (offsets != null){
+				if (encoded != null){
+					int n = LDAHelper.isSparseTopicVector(encoded) ? LDAHelper.sparseTopicVectorSize(encoded) : K;
+					if (size + n > weights.length){
+						if ((long) size + n > Integer.MAX_VALUE){
+							throw new IOException("Too many topic weights in a segment of " + maxDoc
+									+ " documents for K=" + K);
+						}
+						int capacity = (int) Math.min(Integer.MAX_VALUE, Math.max(2L * weights.length, size + n));
+						topics = Arrays.copyOf(topics, capacity);
+						weights = Arrays.copyOf(weights, capacity);
+					}
+					if (LDAHelper.isSparseTopicVector(encoded)){
+						size = LDAHelper.decodeSparseTopicVector(encoded, topics, weights, size);
+					} else {
+						// A dense vector in a sparse column: keep its nonzero topics
+						Arrays.fill(row, 0f);
+						LDAHelper.decodeTopicVector(encoded, row, 0, K);
+						for (int k = 0; k < K; ++k){
+							if (row[k] != 0){
+								topics[size] = (short) k;
+								weights[size++] = row[k];
+							}
+						}
+					}
+				}
+				offsets[doc + 1] = size;
+			} else if (encoded != null){
+				LDAHelper.decodeTopicVector(encoded, vectors, doc * K, K);
+			}
+		}
+		if (offsets != null){
+			return new TopicVectorColumn(K, offsets, Arrays.copyOf(topics, size), Arrays.copyOf(weights, size));
+		}
+		if (vectors == null && segment.numDocs() > 0){
+			// E.g., a segment indexed before the field existed: every score would be 0
+			throw new IOException("No document in a segment of the index has a " + field + " field; the index"
+					+ " was built by an older version, or without an LDA configuration with K=" + K
+					+ ". Re-index it.");
+		}
+		return new TopicVectorColumn(K, vectors != null ? vectors : denseVectors(maxDoc, K));
+	}
+
+	// The (zeroed) dense vectors of a segment: maxDoc x K floats, in one array, so that
+	// every docId * K is a valid int offset
+	private static float[] denseVectors(int maxDoc, int K) throws IOException {
+		if ((long) maxDoc * K > Integer.MAX_VALUE){
+			throw new IOException("Too many documents (" + maxDoc + ") in a segment to load their topic vectors"
+					+ " for K=" + K);
+		}
+		return new float[maxDoc * K];
+	}
+
+	/**
+	 * Returns the dot product of the given document's topic vector and the given
+	 * (length K) vector: the conditional probability between the document and the query.
+	 */
+	float dot(int docId, float[] query) {
+		if (subs != null){
+			int i = ReaderUtil.subIndex(docId, starts);
+			return subs[i].dot(docId - starts[i], query);
+		}
+		float result = 0;
+		if (offsets != null){
+			int end = offsets[docId + 1];
+			for (int i = offsets[docId]; i < end; ++i){
+				result += weights[i] * query[topics[i] & 0xffff];
+			}
+			return result;
+		}
+		int base = docId * K;
+		for (int k = 0; k < K; ++k){
+			result += vectors[base + k] * query[k];
+		}
+		return result;
+	}
+
+	/**
+	 * Copies the given document's topic vector into dst (of length K).
+	 */
+	void get(int docId, float[] dst) {
+		if (subs != null){
+			int i = ReaderUtil.subIndex(docId, starts);
+			subs[i].get(docId - starts[i], dst);
+			return;
+		}
+		if (offsets != null){
+			Arrays.fill(dst, 0, K, 0f);
+			for (int i = offsets[docId]; i < offsets[docId + 1]; ++i){
+				dst[topics[i] & 0xffff] = weights[i];
+			}
+			return;
+		}
+		System.arraycopy(vectors, docId * K, dst, 0, K);
+	}
+}
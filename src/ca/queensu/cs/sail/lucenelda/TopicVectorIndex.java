@@ -0,0 +1,606 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+TopicVectorIndex.java
+
+An approximate nearest-neighbour index over the topic vectors (rows of theta) of the
+documents of an index, for one LDA scenario, so that the top k documents of a query can
+be found without scoring every document that shares a topic with it.
+
+The index is a hierarchical navigable small world (HNSW) graph: every document is a
+node, linked to up to M of its nearest neighbours (2M on the bottom layer), and a random,
+geometrically shrinking subset of the nodes also appears on each higher layer. A search
+descends greedily from the single node of the top layer to the bottom layer, and then
+does a best-first search of the bottom layer that keeps the ef best nodes seen. ef is the
+recall/latency knob: the larger it is, the more nodes are visited, and the closer the
+results are to exact. (ef = 0 scores every node exactly, for comparison.)
+
+Documents are ranked by one of two similarities:
+
+* INNER_PRODUCT: sum_k theta_dk * q_k, i.e., conditional probability, the same score as
+  LDAQuery
+* HELLINGER: sum_k sqrt(theta_dk * q'_k), where q' is q normalized to sum to 1. This is
+  the Bhattacharyya coefficient, BC, and the Hellinger distance is sqrt(1 - BC), so the
+  ranking is by Hellinger distance, nearest first. The nodes hold the square roots of
+  the topic vectors (which have unit length), so this is an inner product too.
+
+The index is built from the topic vector columns of a (top-level) reader (see
+TopicVectorColumn), after the index itself is built or updated, and written to
+topicvectors<K>.hnsw in the index directory, with the version of the index it was built
+from: open() refuses an index that is stale. All values are big-endian:
+
+  header      "LDAN", int version, int K, int metric, int M, long indexVersion,
+              int size, int maxLevel, int entryPoint
+  labels      size x (modified UTF-8) the "file" key of each node
+  vectors     size x K floats
+  links       for each node: int numLevels, and for each level: int count, int[count]
+  crc         long CRC32 of all of the above
+
+Searches are thread-safe; each thread has its own scratch buffers.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import org.apache.log4j.Logger;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.store.FSDirectory;
+
+class TopicVectorIndex {
+
+	private static final Logger logger = Logger.getRootLogger();
+
+	static final byte[] MAGIC = {'L', 'D', 'A', 'N'};
+	static final int VERSION = 1;
+
+	static final int DEFAULT_M = 16;
+	static final int DEFAULT_EF_CONSTRUCTION = 100;
+
+	enum Metric {
+		INNER_PRODUCT, HELLINGER;
+
+		/**
+		 * Parses "innerProduct" or "hellinger" (in any case).
+		 */
+		static Metric parse(String name) {
+			if (name.equalsIgnoreCase("innerProduct") || name.equalsIgnoreCase("inner_product")){
+				return INNER_PRODUCT;
+			}
+			if (name.equalsIgnoreCase("hellinger")){
+				return HELLINGER;
+			}
+			throw new IllegalArgumentException("Unknown metric: " + name + " (expected innerProduct or hellinger)");
+		}
+
+		/**
+		 * Copies the given topic vector (of length K) into dst at offset, as it is held by
+		 * the nodes of an index with this metric.
+		 */
+		void transform(float[] vector, int K, float[] dst, int offset) {
+			if (this == INNER_PRODUCT){
+				System.arraycopy(vector, 0, dst, offset, K);
+				return;
+			}
+			double sum = 0;
+			for (int k = 0; k < K; ++k){
+				sum += Math.max(0f, vector[k]);
+			}
+			for (int k = 0; k < K; ++k){
+				dst[offset + k] = sum > 0 ? (float) Math.sqrt(Math.max(0f, vector[k]) / sum) : 0f;
+			}
+		}
+	}
+
+	final int K;
+	final Metric metric;
+
+	// The version of the index the nodes were read from
+	final long indexVersion;
+
+	private final int M;
+	private final int size;
+
+	// The topic vector of each node (transformed for the metric), row-major, and its
+	// "file" key. size * K fits in an int (see the constructor), so node * K does too.
+	private final float[] vectors;
+	private final String[] labels;
+
+	// The neighbours of each node, on each layer it appears on: links[node][level]
+	private final int[][][] links;
+	private int entryPoint = -1;
+	private int maxLevel = -1;
+
+	// A min-heap of nodes, keyed by a float
+	private static final class NodeHeap {
+		int[] nodes = new int[64];
+		float[] keys = new float[64];
+		int size;
+
+		void push(int node, float key) {
+			if (size == nodes.length){
+				nodes = Arrays.copyOf(nodes, 2 * size);
+				keys = Arrays.copyOf(keys, 2 * size);
+			}
+			int i = size++;
+			while (i > 0){
+				int parent = (i - 1) >>> 1;
+				if (keys[parent] <= key){
+					break;
+				}
+				nodes[i] = nodes[parent];
+				keys[i] = keys[parent];
+				i = parent;
+			}
+			nodes[i] = node;
+			keys[i] = key;
+		}
+
+		float topKey() {
+			return keys[0];
+		}
+
+		int pop() {
+			int top = nodes[0];
+			int node = nodes[--size];
+			float key = keys[size];
+			int i = 0;
+			while (true){
+				int child = 2 * i + 1;
+				if (child >= size){
+					break;
+				}
+				if (child + 1 < size && keys[child + 1] < keys[child]){
+					++child;
+				}
+				if (keys[child] >= key){
+					break;
+				}
+				nodes[i] = nodes[child];
+				keys[i] = keys[child];
+				i = child;
+			}
+			nodes[i] = node;
+			keys[i] = key;
+			return top;
+		}
+	}
+
+	// The scratch state of one thread
+	private class Scratch {
+		final float[] query = new float[K];
+
+		// visited[node] == visit means the node was visited by the current search
+		final int[] visited = new int[size];
+		int visit = 0;
+
+		// The nodes to expand, best first (keyed by -similarity), and the best nodes
+		// found, worst first (keyed by similarity)
+		final NodeHeap candidates = new NodeHeap();
+		final NodeHeap results = new NodeHeap();
+
+		// The results of searchLayer(), best first
+		int[] nodes = new int[64];
+		float[] sims = new float[64];
+		int numNodes;
+	}
+
+	private final ThreadLocal<Scratch> scratch = new ThreadLocal<Scratch>() {
+		protected Scratch initialValue() {
+			return new Scratch();
+		}
+	};
+
+	private TopicVectorIndex(int K, Metric metric, long indexVersion, int M, int size) throws IOException {
+		if ((long) size * K > Integer.MAX_VALUE){
+			throw new IOException("Too many documents (" + size + ") to index their topic vectors for K=" + K);
+		}
+		this.K = K;
+		this.metric = metric;
+		this.indexVersion = indexVersion;
+		this.M = M;
+		this.size = size;
+		this.vectors = new float[size * K];
+		this.labels = new String[size];
+		this.links = new int[size][][];
+	}
+
+	/**
+	 * Returns the file that holds the index of the given scenario, in the given index
+	 * directory.
+	 */
+	static File fileFor(File indexDir, int K) {
+		return new File(indexDir, "topicvectors" + K + ".hnsw");
+	}
+
+	/**
+	 * Builds the index of every (live) document of the given reader, for the scenario with
+	 * K topics.
+	 *
+	 * @param M The number of neighbours of each node (on the higher layers)
+	 * @param efConstruction The number of candidate neighbours considered for each node
+	 * @param seed The seed of the random choice of the layers of each node
+	 */
+	static TopicVectorIndex build(IndexReader reader, int K, Metric metric, int M, int efConstruction, long seed)
+			throws IOException {
+		long start = System.nanoTime();
+		TopicVectorIndex index = new TopicVectorIndex(K, metric, reader.getVersion(), M, reader.numDocs());
+		TopicVectorColumn column = TopicVectorColumn.get(reader, K);
+		FileKeyColumn keys = FileKeyColumn.get(reader);
+		float[] row = new float[K];
+		int node = 0;
+		for (int doc = 0; doc < reader.maxDoc(); ++doc){
+			if (reader.isDeleted(doc)){
+				continue;
+			}
+			column.get(doc, row);
+			metric.transform(row, K, index.vectors, node * K);
+			index.labels[node++] = keys.get(doc);
+		}
+
+		// Each node appears on layers 0 .. level, where level is geometric with mean
+		// 1/ln(M)
+		XorShiftRandom random = new XorShiftRandom(seed);
+		double mL = 1 / Math.log(Math.max(2, M));
+		for (int i = 0; i < index.size; ++i){
+			int level = (int) (-Math.log(1 - random.nextDouble()) * mL);
+			index.insert(i, level, efConstruction);
+		}
+
+		logger.info(String.format("Built the %s topic vector index of %d document(s) for K=%d in %.3f s (%d layer(s))",
+				metric.name().toLowerCase(), index.size, K, (System.nanoTime() - start) / 1e9, index.maxLevel + 1));
+		return index;
+	}
+
+	/**
+	 * Builds, and writes alongside the index, the topic vector index of every scenario of
+	 * the given LDA index.
+	 */
+	static void buildAll(File indexDir, String ldaIndexName, Metric metric) throws IOException {
+		LDAHelper lda = LDAHelper.load(ldaIndexName);
+		IndexReader reader = IndexReader.open(FSDirectory.open(indexDir), true);
+		try {
+			for (LDAHelper.LDAK ldak : lda.scens){
+				build(reader, ldak.K, metric, DEFAULT_M, DEFAULT_EF_CONSTRUCTION, 1).write(fileFor(indexDir, ldak.K));
+			}
+		} finally {
+			reader.close();
+		}
+	}
+
+	/**
+	 * Reads the index of the given scenario that was written alongside the given index.
+	 * Returns null (and logs why) if there is none, or if it was built from an older
+	 * version of the index.
+	 */
+	static TopicVectorIndex open(File indexDir, IndexReader reader, int K) throws IOException {
+		File file = fileFor(indexDir, K);
+		if (!file.exists()){
+			logger.warn("There is no topic vector index " + file + "; build it with --annMetric");
+			return null;
+		}
+		TopicVectorIndex index = read(file);
+		if (index.indexVersion != reader.getVersion()){
+			logger.warn("The topic vector index " + file + " is stale (the index changed since it was built); "
+					+ "rebuild it with --annMetric");
+			return null;
+		}
+		return index;
+	}
+
+	int size() {
+		return size;
+	}
+
+	// The "file" key of a node
+	String label(int node) {
+		return labels[node];
+	}
+
+
+	// Adds a node (whose vector is already in place) to layers 0 .. level
+	private void insert(int node, int level, int efConstruction) {
+		links[node] = new int[level + 1][];
+		for (int l = 0; l <= level; ++l){
+			links[node][l] = new int[0];
+		}
+		if (entryPoint < 0){
+			entryPoint = node;
+			maxLevel = level;
+			return;
+		}
+
+		Scratch s = scratch.get();
+		int offset = node * K;
+		int ep = entryPoint;
+		for (int l = maxLevel; l > level; --l){
+			searchLayer(s, vectors, offset, ep, 1, l);
+			ep = s.nodes[0];
+		}
+		for (int l = Math.min(level, maxLevel); l >= 0; --l){
+			searchLayer(s, vectors, offset, ep, efConstruction, l);
+			ep = s.nodes[0];
+			int[] neighbours = selectNeighbours(offset, s.nodes, s.sims, s.numNodes, M);
+			links[node][l] = neighbours;
+
+			// Link back, pruning any neighbour that now has too many
+			int maxLinks = l == 0 ? 2 * M : M;
+			for (int nb : neighbours){
+				int[] old = links[nb][l];
+				int[] grown = Arrays.copyOf(old, old.length + 1);
+				grown[old.length] = node;
+				if (grown.length > maxLinks){
+					float[] sims = new float[grown.length];
+					for (int i = 0; i < grown.length; ++i){
+						sims[i] = similarity(vectors, nb * K, grown[i]);
+					}
+					sortBestFirst(grown, sims, grown.length);
+					grown = selectNeighbours(nb * K, grown, sims, grown.length, maxLinks);
+				}
+				links[nb][l] = grown;
+			}
+		}
+		if (level > maxLevel){
+			maxLevel = level;
+			entryPoint = node;
+		}
+	}
+
+	/**
+	 * Chooses up to max neighbours among the given candidates (best first) of the vector
+	 * at offset: a candidate is preferred if it is closer to the vector than to any
+	 * neighbour already chosen, so that the links point in diverse directions. Any
+	 * remaining places are filled with the best of the other candidates.
+	 */
+	private int[] selectNeighbours(int offset, int[] candidates, float[] sims, int n, int max) {
+		int[] chosen = new int[Math.min(n, max)];
+		int numChosen = 0;
+		boolean[] skipped = new boolean[n];
+		for (int i = 0; i < n && numChosen < chosen.length; ++i){
+			if (candidates[i] * K == offset){
+				skipped[i] = true;
+				continue;
+			}
+			boolean diverse = true;
+			for (int j = 0; j < numChosen && diverse; ++j){
+				diverse = similarity(vectors, candidates[i] * K, chosen[j]) <= sims[i];
+			}
+			if (diverse){
+				chosen[numChosen++] = candidates[i];
+			} else {
+				skipped[i] = true;
+			}
+		}
+		for (int i = 0; i < n && numChosen < chosen.length; ++i){
+			if (skipped[i] && candidates[i] * K != offset){
+				chosen[numChosen++] = candidates[i];
+			}
+		}
+		return numChosen == chosen.length ? chosen : Arrays.copyOf(chosen, numChosen);
+	}
+
+	/**
+	 * Searches one layer from the given entry node, keeping the ef nodes most similar to
+	 * the query (vector at offset of the array q). Leaves them, best first, in s.nodes
+	 * and s.sims.
+	 */
+	private void searchLayer(Scratch s, float[] q, int offset, int entry, int ef, int level) {
+		if (++s.visit == 0){
+			Arrays.fill(s.visited, 0);
+			s.visit = 1;
+		}
+		NodeHeap candidates = s.candidates;
+		NodeHeap results = s.results;
+		candidates.size = 0;
+		results.size = 0;
+
+		float sim = similarity(q, offset, entry);
+		s.visited[entry] = s.visit;
+		candidates.push(entry, -sim);
+		results.push(entry, sim);
+		while (candidates.size > 0){
+			float best = -candidates.topKey();
+			int c = candidates.pop();
+			if (results.size >= ef && best < results.topKey()){
+				break;
+			}
+			for (int nb : links[c][level]){
+				if (s.visited[nb] == s.visit){
+					continue;
+				}
+				s.visited[nb] = s.visit;
+				sim = similarity(q, offset, nb);
+				if (results.size < ef || sim > results.topKey()){
+					candidates.push(nb, -sim);
+					results.push(nb, sim);
+					if (results.size > ef){
+						results.pop();
+					}
+				}
+			}
+		}
+
+		if (s.nodes.length < results.size){
+			s.nodes = new int[results.size];
+			s.sims = new float[results.size];
+		}
+		s.numNodes = results.size;
+		for (int i = s.numNodes - 1; i >= 0; --i){
+			s.sims[i] = results.topKey();
+			s.nodes[i] = results.pop();
+		}
+	}
+
+	// The similarity of the vector at offset of q and the given node
+	private float similarity(float[] q, int offset, int node) {
+		int base = node * K;
+		float result = 0;
+		for (int k = 0; k < K; ++k){
+			result += q[offset + k] * vectors[base + k];
+		}
+		return result;
+	}
+
+	// Sorts the first n nodes by decreasing similarity (n is at most 2M + 1)
+	private static void sortBestFirst(int[] nodes, float[] sims, int n) {
+		for (int i = 1; i < n; ++i){
+			int node = nodes[i];
+			float sim = sims[i];
+			int j = i - 1;
+			while (j >= 0 && sims[j] < sim){
+				nodes[j + 1] = nodes[j];
+				sims[j + 1] = sims[j];
+				--j;
+			}
+			nodes[j + 1] = node;
+			sims[j + 1] = sim;
+		}
+	}
+
+
+	/**
+	 * Offers to the ranker (after resetting it to keep k) the nodes most similar to the
+	 * given query topic vector (of length K), found by searching with the given ef (at
+	 * least k is used). With ef = 0, every node is scored exactly. The "docs" of the
+	 * ranker are nodes (see label()). Nodes with no topic in common with the query (a
+	 * similarity of 0) are not offered, as LDAQuery does not match them.
+	 */
+	void search(float[] query, int k, int ef, TopKRanker ranker) {
+		Scratch s = scratch.get();
+		metric.transform(query, K, s.query, 0);
+		ranker.reset(k);
+		if (size == 0){
+			return;
+		}
+		if (ef <= 0){
+			for (int node = 0; node < size; ++node){
+				float sim = similarity(s.query, 0, node);
+				if (sim > 0){
+					ranker.offer(node, sim);
+				}
+			}
+			return;
+		}
+
+		int ep = entryPoint;
+		for (int l = maxLevel; l > 0; --l){
+			searchLayer(s, s.query, 0, ep, 1, l);
+			ep = s.nodes[0];
+		}
+		searchLayer(s, s.query, 0, ep, Math.max(ef, k), 0);
+		for (int i = 0; i < s.numNodes && s.sims[i] > 0; ++i){
+			ranker.offer(s.nodes[i], s.sims[i]);
+		}
+	}
+
+
+	/**
+	 * Writes the index to the given file (via a temporary file, so that a reader never
+	 * sees a partial index).
+	 */
+	void write(File file) throws IOException {
+		File tmp = new File(file.getPath() + ".tmp");
+		CheckedOutputStream checked = new CheckedOutputStream(
+				new BufferedOutputStream(new FileOutputStream(tmp), 1 << 16), new CRC32());
+		DataOutputStream out = new DataOutputStream(checked);
+		try {
+			out.write(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(K);
+			out.writeInt(metric.ordinal());
+			out.writeInt(M);
+			out.writeLong(indexVersion);
+			out.writeInt(size);
+			out.writeInt(maxLevel);
+			out.writeInt(entryPoint);
+			for (String label : labels){
+				out.writeUTF(label == null ? "" : label);
+			}
+			for (float v : vectors){
+				out.writeFloat(v);
+			}
+			for (int[][] nodeLinks : links){
+				out.writeInt(nodeLinks.length);
+				for (int[] neighbours : nodeLinks){
+					out.writeInt(neighbours.length);
+					for (int nb : neighbours){
+						out.writeInt(nb);
+					}
+				}
+			}
+			out.flush();
+			out.writeLong(checked.getChecksum().getValue());
+		} finally {
+			out.close();
+		}
+		if (!tmp.renameTo(file) && !(file.delete() && tmp.renameTo(file))){
+			throw new IOException("Cannot replace " + file + " with " + tmp);
+		}
+	}
+
+	/**
+	 * Reads an index written by write().
+	 */
+	static TopicVectorIndex read(File file) throws IOException {
+		CheckedInputStream checked = new CheckedInputStream(
+				new BufferedInputStream(new FileInputStream(file), 1 << 16), new CRC32());
+		DataInputStream in = new DataInputStream(checked);
+		try {
+			byte[] magic = new byte[MAGIC.length];
+			in.readFully(magic);
+			if (!Arrays.equals(magic, MAGIC)){
+				throw new IOException(file + " is not a topic vector index");
+			}
+			int version = in.readInt();
+			if (version != VERSION){
+				throw new IOException(file + " has unsupported version " + version + " (expected " + VERSION + ")");
+			}
+			int K = in.readInt();
+			Metric metric = Metric.values()[in.readInt()];
+			int M = in.readInt();
+			long indexVersion = in.readLong();
+			TopicVectorIndex index = new TopicVectorIndex(K, metric, indexVersion, M, in.readInt());
+			index.maxLevel = in.readInt();
+			index.entryPoint = in.readInt();
+			for (int i = 0; i < index.size; ++i){
+				index.labels[i] = in.readUTF();
+			}
+			for (int i = 0; i < index.vectors.length; ++i){
+				index.vectors[i] = in.readFloat();
+			}
+			for (int i = 0; i < index.size; ++i){
+				int[][] nodeLinks = new int[in.readInt()][];
+				for (int l = 0; l < nodeLinks.length; ++l){
+					nodeLinks[l] = new int[in.readInt()];
+					for (int j = 0; j < nodeLinks[l].length; ++j){
+						nodeLinks[l][j] = in.readInt();
+					}
+				}
+				index.links[i] = nodeLinks;
+			}
+			long crc = checked.getChecksum().getValue();
+			if (in.readLong() != crc){
+				throw new IOException(file + " is corrupt (checksum mismatch)");
+			}
+			return index;
+		} finally {
+			in.close();
+		}
+	}
+}
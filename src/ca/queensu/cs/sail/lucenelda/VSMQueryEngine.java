@@ -0,0 +1,83 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+VSMQueryEngine.java
+
+Executes queries using the Vector Space Model (VSM), i.e., Lucene's own tf-idf scoring
+as customized by VSMSimilarity, over the "data" field.
+
+The IndexSearcher is shared by all threads. QueryParser is not thread-safe, so each
+thread gets its own.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import org.apache.lucene.queryParser.MultiFieldQueryParser;
+import org.apache.lucene.queryParser.QueryParser;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.Version;
+
+class VSMQueryEngine implements QueryEngine {
+
+	private final IndexSearcher searcher;
+	private final int maxHits;
+
+	// One parser per thread
+	private final ThreadLocal<QueryParser> parsers = new ThreadLocal<QueryParser>() {
+		protected QueryParser initialValue() {
+			// We only need to search the "data" field, and we'll use a simple MultiFieldQuery
+			String[] fields = {"data"};
+			return new MultiFieldQueryParser(Version.LUCENE_35, fields, new SimpleAnalyzer());
+		}
+	};
+
+	// One ranker per thread
+	private final ThreadLocal<TopKRanker> rankers = new ThreadLocal<TopKRanker>() {
+		protected TopKRanker initialValue() {
+			return new TopKRanker(maxHits);
+		}
+	};
+
+	/**
+	 * @param searcher The searcher to use; its similarity should already be set to the
+	 *                 desired VSMSimilarity
+	 * @param maxHits The maximum number of documents to return for each query
+	 */
+	VSMQueryEngine(IndexSearcher searcher, int maxHits) {
+		this.searcher = searcher;
+		this.maxHits = maxHits;
+	}
+
+	public QueryResult execute(String name, String query) throws Exception {
+		long t = System.nanoTime();
+		Metrics.QUERIES.increment();
+
+		// Make sure query doesn't have numbers or punctuation, and skip blank queries
+		QueryTokenizer tokens = QueryTokenizer.get();
+		if (!tokens.tokenize(query)){
+			Metrics.BLANK_QUERIES.increment();
+			return null;
+		}
+		t = Metrics.SANITIZE.since(t);
+
+		// Build a simple query that says "match the text in the bug"
+		Query q1 = tokens.query("data", parsers.get());
+
+		// Execute the query with the .search method, keeping the best maxHits documents
+		TopKRanker ranker = rankers.get();
+		ranker.reset(maxHits);
+		searcher.search(q1, new TopKRanker.TopKCollector(ranker));
+		t = Metrics.SEARCH.since(t);
+		ranker.sort();
+		Metrics.RERANK.since(t);
+		Metrics.HITS.add(ranker.size());
+
+		return QueryResult.fromRanker(name, ranker, searcher);
+	}
+}
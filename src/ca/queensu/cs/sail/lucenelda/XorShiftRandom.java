@@ -0,0 +1,53 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+XorShiftRandom.java
+
+A small, fast, non-thread-safe random number generator (Marsaglia's xorshift64*), for
+the inner loop of the Gibbs sampler, where java.util.Random's synchronization and
+multiply-add would dominate. Each sampling thread has its own.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+class XorShiftRandom {
+
+	private long state;
+
+	XorShiftRandom(long seed) {
+		setSeed(seed);
+	}
+
+	// Restarts the stream from the given seed
+	void setSeed(long seed) {
+		// Scramble the seed (splitmix64), so that nearby seeds give unrelated streams;
+		// the state must never be 0
+		long z = seed + 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		z = z ^ (z >>> 31);
+		state = z != 0 ? z : 1;
+	}
+
+	long nextLong() {
+		state ^= state >>> 12;
+		state ^= state << 25;
+		state ^= state >>> 27;
+		return state * 0x2545F4914F6CDD1DL;
+	}
+
+	// Uniform in [0, 1)
+	double nextDouble() {
+		return (nextLong() >>> 11) * 0x1.0p-53;
+	}
+
+	// Uniform in [0, n)
+	int nextInt(int n) {
+		return (int) ((nextLong() >>> 33) * n >>> 31);
+	}
+}
@@ -17,9 +17,29 @@ parameter combinations) and LDA (again, with various combinations).
 ####################################################################################
 */
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
 import org.apache.log4j.BasicConfigurator;
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.FSDirectory;
 
 import junit.framework.*;
 import ca.queensu.cs.sail.lucenelda.*;
@@ -28,6 +48,20 @@ public class Test001 extends TestCase {
 	
 	private static final Logger logger = Logger.getRootLogger();
 
+	// Trains LDA in-process (briefly) on the code, and builds an index with it, in
+	// t/t001/runlda/index.<name>, with the model in t/t001/runlda/ldaHelper.<name>; any
+	// options are passed on to IndexDirectoryRunLDA
+    private static void trainIndex(String name, String... options) throws Exception{
+        List<String> args = new ArrayList<String>(Arrays.asList(
+                "t/t001/code", "t/t001/runlda/index." + name, "t/t001/runlda/ldaHelper." + name,
+                "--fileCodes", "t/t001/fileCodes.csv",
+                "--numK", "16",
+                "--iterations", "20",
+                "--seed", "1"));
+        args.addAll(Arrays.asList(options));
+        IndexDirectoryRunLDA.main(args.toArray(new String[args.size()]));
+    }
+
 	// Builds the index that other tests will rely on; this itself is a test
     public final void testIndex() throws Exception{
     	
@@ -81,6 +115,21 @@ public class Test001 extends TestCase {
         // TODO: ensure that results are kosher
     }
     
+    public final void testVSM5() throws Exception{
+        String[] args = {"t/t001/index","t/t001/bugs", "t/t001/results/vsm.1.1.threads",
+                         "--weightingCode", "1",
+                         "--scoringCode", "1",
+                         "--threads", "4",
+                         "--unordered"};
+        VSMQueryAllInDirectory.main(args);
+        
+        // The same queries, run concurrently, must give exactly the same results
+        for (File f : new File("t/t001/results/vsm.1.1").listFiles()){
+            assertEquals(FileUtils.readFileToString(f),
+                         FileUtils.readFileToString(new File("t/t001/results/vsm.1.1.threads", f.getName())));
+        }
+    }
+    
     public final void testLDA1() throws Exception{
         String[] args = {"t/t001/index","t/t001/lda/ldaHelper.obj", 
         				 "t/t001/bugs", "t/t001/results/lda.32.1",
@@ -100,7 +149,608 @@ public class Test001 extends TestCase {
         
         // TODO: ensure that results are kosher
     }
+    
+    // Trains LDA in-process (briefly), builds an index with it, and queries that index
+    public final void testRunLDA() throws Exception{
+        trainIndex("run");
+        
+        String[] queryArgs = {"t/t001/runlda/index.run","t/t001/runlda/ldaHelper.run", 
+        				 "t/t001/bugs", "t/t001/results/lda.run.16",
+                         "--K", "16"};
+        LDAQueryAllInDirectory.main(queryArgs);
+        
+        // Every query has a results file (which may be empty, if none of the query's
+        // topics are strong enough), and some queries have results
+        long totalLength = 0;
+        for (File f : new File("t/t001/bugs").listFiles()){
+            File results = new File("t/t001/results/lda.run.16", f.getName());
+            assertTrue(results.exists());
+            totalLength += results.length();
+        }
+        assertTrue(totalLength > 0);
+    }
+    
+    // With a threshold of 0, a sparse theta drops only exact zeros, so the results are
+    // the same as with a dense one
+    public final void testRunLDASparseTheta() throws Exception{
+        String[] modes = {"dense", "sparse"};
+        for (String mode : modes){
+            if (mode.equals("sparse")){
+                trainIndex(mode, "--threads", "2", "--thetaThreshold", "0");
+            } else {
+                trainIndex(mode, "--threads", "2");
+            }
 
+            String[] queryArgs = {"t/t001/runlda/index." + mode,"t/t001/runlda/ldaHelper." + mode,
+                             "t/t001/bugs", "t/t001/results/lda.run.16." + mode,
+                             "--K", "16"};
+            LDAQueryAllInDirectory.main(queryArgs);
+        }
+        
+        for (File f : new File("t/t001/bugs").listFiles()){
+            assertEquals(FileUtils.readFileToString(new File("t/t001/results/lda.run.16.dense", f.getName())),
+                         FileUtils.readFileToString(new File("t/t001/results/lda.run.16.sparse", f.getName())));
+        }
+    }
+    
+    // Builds an index with a half-precision phi, queries it, and reports the drift of a
+    // quantized phi against a full-precision one
+    public final void testQuantizedPhi() throws Exception{
+        trainIndex("half", "--phiEncoding", "half");
+        
+        String[] queryArgs = {"t/t001/runlda/index.half","t/t001/runlda/ldaHelper.half", 
+                         "t/t001/bugs", "t/t001/results/lda.run.16.half",
+                         "--K", "16", "--verifyModel"};
+        LDAQueryAllInDirectory.main(queryArgs);
+        for (File f : new File("t/t001/bugs").listFiles()){
+            assertTrue(new File("t/t001/results/lda.run.16.half", f.getName()).exists());
+        }
+        
+        trainIndex("float");
+        String[] floatArgs = {"t/t001/runlda/index.float","t/t001/runlda/ldaHelper.float", 
+                         "t/t001/bugs", "t/t001/results/lda.run.16.float", "--K", "16"};
+        LDAQueryAllInDirectory.main(floatArgs);
+        
+        // The same training, with phi stored as half floats, scores each document almost
+        // as full precision does
+        int compared = 0;
+        for (File f : new File("t/t001/bugs").listFiles()){
+            Map<String, Float> full = scores(new File("t/t001/results/lda.run.16.float", f.getName()));
+            Map<String, Float> half = scores(new File("t/t001/results/lda.run.16.half", f.getName()));
+            for (Map.Entry<String, Float> e : full.entrySet()){
+                if (half.containsKey(e.getKey())){
+                    assertEquals(f.getName() + " " + e.getKey(), e.getValue(), half.get(e.getKey()), 0.01f);
+                    ++compared;
+                }
+            }
+        }
+        assertTrue(compared > 0);
+        
+        String[] reportArgs = {"t/t001/runlda/index.float","t/t001/runlda/ldaHelper.float", 
+                         "t/t001/bugs", "--K", "16", "--encodings", "half,byte"};
+        PrintStream stdout = System.out;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            System.setOut(new PrintStream(out, true, "UTF-8"));
+            PhiDriftReport.main(reportArgs);
+        } finally {
+            System.setOut(stdout);
+        }
+        
+        // The top 10 of each query mostly survives quantization: almost all of it with
+        // half floats, and most of it with bytes
+        Map<String, Double> overlap = new HashMap<String, Double>();
+        for (String line : out.toString("UTF-8").split("\n")){
+            String[] fields = line.trim().split("\\s+");
+            if (fields.length == 6 && !fields[0].equals("encoding")){
+                overlap.put(fields[0], Double.parseDouble(fields[2]));
+            }
+        }
+        System.out.print(out.toString("UTF-8"));
+        assertEquals(1.0, overlap.get("float"), 0);
+        assertTrue("overlap@10 of half: " + overlap.get("half"), overlap.get("half") >= 0.95);
+        assertTrue("overlap@10 of byte: " + overlap.get("byte"), overlap.get("byte") >= 0.8);
+    }
+    
+    // The "file,score" lines of a results file, by file
+    private static Map<String, Float> scores(File results) throws Exception{
+        Map<String, Float> scores = new HashMap<String, Float>();
+        for (String line : FileUtils.readLines(results)){
+            int comma = line.lastIndexOf(',');
+            scores.put(line.substring(0, comma), Float.parseFloat(line.substring(comma + 1)));
+        }
+        return scores;
+    }
+    
+    // Sends a few requests to a query server over stdin, and checks its responses
+    public final void testQueryServer() throws Exception{
+        trainIndex("server");
+        
+        String query = FileUtils.readFileToString(new File("t/t001/bugs").listFiles()[0]).replace('\n', ' ');
+        
+        // The same terms, in reverse order and with some noise, should be answered from the cache
+        String[] terms = query.trim().split(" ");
+        String reversed = "42,";
+        for (int j = terms.length - 1; j >= 0; --j){
+            reversed += " " + terms[j];
+        }
+        String requests = "PING\n"
+                        + "vsm id=q1 maxHits=5\t" + query + "\n"
+                        + "lda K=16 id=q2\t" + query + "\n"
+                        + "lsi id=q3\t" + query + "\n"
+                        + "vsm id=q4 maxHits=5\t" + reversed + "\n"
+                        + "lda K=7 id=q5\t" + query + "\n"
+                        + "lda id=q6\t" + query + "\n"
+                        + "STATS\n"
+                        + "QUIT\n";
+        
+        InputStream stdin = System.in;
+        PrintStream stdout = System.out;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            System.setIn(new ByteArrayInputStream(requests.getBytes("UTF-8")));
+            System.setOut(new PrintStream(out, true, "UTF-8"));
+            String[] serverArgs = {"t/t001/runlda/index.server", "--ldaIndex", "t/t001/runlda/ldaHelper.server"};
+            QueryServer.main(serverArgs);
+        } finally {
+            System.setIn(stdin);
+            System.setOut(stdout);
+        }
+        
+        String[] lines = out.toString("UTF-8").split("\n");
+        assertEquals("PONG", lines[0]);
+        assertTrue(lines[1].startsWith("OK id=q1 hits=5 ms="));
+        int i = 7;
+        assertTrue(lines[i].startsWith("OK id=q2 hits="));
+        int ldaHits = Integer.parseInt(lines[i].split("hits=")[1].split(" ")[0]);
+        i += 1 + ldaHits;
+        assertTrue(lines[i].startsWith("ERROR id=q3 "));
+        assertTrue(lines[i + 1].startsWith("OK id=q4 hits=5 ms="));
+        for (int j = 0; j < 5; ++j){
+            assertEquals(lines[2 + j], lines[i + 2 + j]);
+        }
+        i += 7;
+        
+        // An unknown K is an error; no K is the model's first (and only) K
+        assertEquals("ERROR id=q5 the LDA index has no configuration with K=7", lines[i]);
+        assertTrue(lines[i + 1].startsWith("OK id=q6 hits=" + ldaHits + " ms="));
+        i += 2 + ldaHits;
+        assertTrue(lines[i].startsWith("STATS requests=6 errors=2 "));
+        assertTrue(lines[i].contains(" resultHits=1 "));
+        assertEquals(i + 1, lines.length);
+    }
+    
+    // Builds an index of a copy of the code, changes a few files, and updates the index
+    public final void testUpdate() throws Exception{
+        File code = new File("t/t001/runlda/code.update");
+        FileUtils.deleteDirectory(code);
+        FileUtils.deleteDirectory(new File("t/t001/runlda/index.update"));
+        FileUtils.copyDirectory(new File("t/t001/code"), code);
+        File fileCodes = new File("t/t001/runlda/fileCodes.update.csv");
+        FileUtils.copyFile(new File("t/t001/fileCodes.csv"), fileCodes);
+        
+        String[] args = {code.getPath(), "t/t001/runlda/index.update", "t/t001/runlda/ldaHelper.update",
+                         "--fileCodes", fileCodes.getPath(),
+                         "--numK", "16",
+                         "--iterations", "20",
+                         "--seed", "1",
+                         "--update"};
+        IndexDirectoryRunLDA.main(args);
+        
+        // Modify one file, delete another, and add a copy of a third under a new name
+        File[] files = code.listFiles();
+        FileUtils.writeStringToFile(files[0], FileUtils.readFileToString(files[0]) + " nsresult mailbox folder");
+        assertTrue(files[1].delete());
+        FileUtils.copyFile(files[2], new File(code, "newfile.cpp"));
+        FileUtils.writeStringToFile(fileCodes, FileUtils.readFileToString(fileCodes) + "9999, newfile.cpp\n");
+        IndexDirectoryRunLDA.main(args);
+        
+        IndexReader reader = IndexReader.open(FSDirectory.open(new File("t/t001/runlda/index.update")));
+        try {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            assertEquals(files.length, reader.numDocs());
+            assertEquals(1, searcher.search(new TermQuery(new Term("path", files[0].getName())), 10).totalHits);
+            assertEquals(0, searcher.search(new TermQuery(new Term("path", files[1].getName())), 10).totalHits);
+            assertEquals(1, searcher.search(new TermQuery(new Term("path", "newfile.cpp")), 10).totalHits);
+            assertEquals(1, searcher.search(new TermQuery(new Term("file", "9999")), 10).totalHits);
+        } finally {
+            reader.close();
+        }
+        
+        String[] queryArgs = {"t/t001/runlda/index.update", "t/t001/runlda/ldaHelper.update",
+                              "t/t001/bugs", "t/t001/results/lda.update"};
+        LDAQueryAllInDirectory.main(queryArgs);
+        assertEquals(new File("t/t001/bugs").listFiles().length, new File("t/t001/results/lda.update").listFiles().length);
+        
+        // The changes to the LDA index went to its delta; once a third of the files have
+        // changed, the LDA index is rewritten instead
+        File delta = new File("t/t001/runlda/ldaHelper.update.delta");
+        assertTrue(delta.exists());
+        files = code.listFiles();
+        for (int i = 0; i < files.length / 3; ++i){
+            FileUtils.writeStringToFile(files[i], FileUtils.readFileToString(files[i]) + " nsresult");
+        }
+        IndexDirectoryRunLDA.main(args);
+        assertFalse(delta.exists());
+        LDAQueryAllInDirectory.main(queryArgs);
+        assertEquals(new File("t/t001/bugs").listFiles().length, new File("t/t001/results/lda.update").listFiles().length);
+    }
+    
+    // Builds an index from LDA output that leaves one file out of files.dat, so that the
+    // file's topics are folded in, and then queries it with that file's own text
+    public final void testFoldInQuery() throws Exception{
+        // The LDA output for K=32, without the second file, and with a phi estimated from
+        // the theta of the other files (the test data has no words.dat)
+        File ldaDir = new File("t/t001/runlda/lda.foldin");
+        List<String> files = FileUtils.readLines(new File("t/t001/lda/32/files.dat"));
+        List<String> theta = FileUtils.readLines(new File("t/t001/lda/32/theta.dat"));
+        List<String> vocab = FileUtils.readLines(new File("t/t001/lda/32/vocab.dat"));
+        String missing = files.get(1).split("\\s+")[1];
+        files.remove(1);
+        theta.remove(1);
+        FileUtils.writeLines(new File(ldaDir, "files.dat"), files);
+        FileUtils.writeLines(new File(ldaDir, "theta.dat"), theta);
+        FileUtils.writeLines(new File(ldaDir, "vocab.dat"), vocab);
+        writePhi(new File(ldaDir, "words.dat"), files, theta, vocab, 32);
+        
+        String[] args = {"t/t001/code", "t/t001/runlda/index.foldin", "t/t001/runlda/ldaHelper.foldin",
+                         "--fileCodes", "t/t001/fileCodes.csv",
+                         "--ldaConfig", "32," + ldaDir.getPath()};
+        IndexDirectory.main(args);
+        
+        // The missing file was indexed with an inferred theta: a distribution over the
+        // topics, but not the uniform one
+        IndexReader reader = IndexReader.open(FSDirectory.open(new File("t/t001/runlda/index.foldin")));
+        try {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            int doc = searcher.search(new TermQuery(new Term("path", missing)), 1).scoreDocs[0].doc;
+            ByteBuffer vector = ByteBuffer.wrap(reader.document(doc).getBinaryValue("topicvector32"))
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            assertEquals(0, vector.get());
+            float sum = 0;
+            float max = 0;
+            for (int k = 0; k < 32; ++k){
+                float weight = vector.getFloat();
+                sum += weight;
+                max = Math.max(max, weight);
+            }
+            assertEquals(1, sum, 0.01);
+            assertTrue(max > 2f / 32);
+        } finally {
+            reader.close();
+        }
+        
+        // Queried with its own text, folded in too, the missing file is found
+        String code = null;
+        for (String line : FileUtils.readLines(new File("t/t001/fileCodes.csv"))){
+            if (line.endsWith("," + missing)){
+                code = line.substring(0, line.indexOf(','));
+            }
+        }
+        File queryDir = new File("t/t001/runlda/queries.foldin");
+        FileUtils.copyFile(new File("t/t001/code", missing), new File(queryDir, "self"));
+        String[] selfArgs = {"t/t001/runlda/index.foldin", "t/t001/runlda/ldaHelper.foldin",
+                             queryDir.getPath(), "t/t001/results/lda.foldin.self", "--K", "32", "--foldInQuery"};
+        LDAQueryAllInDirectory.main(selfArgs);
+        List<String> found = new ArrayList<String>();
+        for (String line : FileUtils.readLines(new File("t/t001/results/lda.foldin.self/self"))){
+            found.add(line.substring(0, line.lastIndexOf(',')));
+        }
+        assertTrue(found.contains(code));
+        
+        String[] queryArgs = {"t/t001/runlda/index.foldin", "t/t001/runlda/ldaHelper.foldin",
+                              "t/t001/bugs", "t/t001/results/lda.foldin", "--K", "32", "--foldInQuery"};
+        LDAQueryAllInDirectory.main(queryArgs);
+        assertEquals(new File("t/t001/bugs").listFiles().length, new File("t/t001/results/lda.foldin").listFiles().length);
+    }
+    
+    // Writes a words.dat for the given LDA output (files.dat lines, theta.dat lines and
+    // vocabulary) with K topics: the expected counts of each term in each topic, given
+    // the files' theta, smoothed and normalized
+    private static void writePhi(File wordsDat, List<String> files, List<String> theta, List<String> vocab, int K)
+            throws Exception{
+        Map<String, Integer> termIds = new HashMap<String, Integer>();
+        for (String term : vocab){
+            termIds.put(term, termIds.size());
+        }
+        double[][] phi = new double[K][vocab.size()];
+        for (double[] row : phi){
+            Arrays.fill(row, 0.01);
+        }
+        for (int d = 0; d < files.size(); ++d){
+            String[] weights = theta.get(d).trim().split("\\s+");
+            String text = FileUtils.readFileToString(new File("t/t001/code", files.get(d).split("\\s+")[1]));
+            for (String term : text.trim().split("\\s+")){
+                Integer w = termIds.get(term);
+                if (w != null){
+                    for (int k = 0; k < K; ++k){
+                        phi[k][w] += Double.parseDouble(weights[k]);
+                    }
+                }
+            }
+        }
+        StringBuilder sb = new StringBuilder();
+        for (double[] row : phi){
+            double sum = 0;
+            for (double p : row){
+                sum += p;
+            }
+            for (double p : row){
+                sb.append((float) (p / sum)).append(' ');
+            }
+            sb.append('\n');
+        }
+        FileUtils.writeStringToFile(wordsDat, sb.toString());
+    }
+    
+    // Builds a topic vector index by inner product, whose exact search (ef 0) must rank as
+    // the usual LDAQuery does, and whose approximate search must recall most of the same
+    // top 10; then reports recall for a Hellinger index
+    public final void testAnn() throws Exception{
+        trainIndex("ann", "--annMetric", "innerProduct");
+        assertTrue(new File("t/t001/runlda/index.ann/topicvectors16.hnsw").exists());
+        
+        String[] exactArgs = {"t/t001/runlda/index.ann", "t/t001/runlda/ldaHelper.ann",
+                              "t/t001/bugs", "t/t001/results/lda.ann.exact"};
+        LDAQueryAllInDirectory.main(exactArgs);
+        String[] ef0Args = {"t/t001/runlda/index.ann", "t/t001/runlda/ldaHelper.ann",
+                            "t/t001/bugs", "t/t001/results/lda.ann.ef0", "--ann", "--annEf", "0"};
+        LDAQueryAllInDirectory.main(ef0Args);
+        String[] queryArgs = {"t/t001/runlda/index.ann", "t/t001/runlda/ldaHelper.ann",
+                              "t/t001/bugs", "t/t001/results/lda.ann", "--ann", "--annEf", "50"};
+        LDAQueryAllInDirectory.main(queryArgs);
+        
+        File[] bugs = new File("t/t001/bugs").listFiles();
+        assertEquals(bugs.length, new File("t/t001/results/lda.ann").listFiles().length);
+        int expected = 0;
+        int found = 0;
+        for (File bug : bugs){
+            List<String> exact = topFiles(new File("t/t001/results/lda.ann.exact", bug.getName()), 10);
+            assertEquals(exact, topFiles(new File("t/t001/results/lda.ann.ef0", bug.getName()), exact.size()));
+            List<String> approximate = topFiles(new File("t/t001/results/lda.ann", bug.getName()), 10);
+            for (String file : exact){
+                if (approximate.contains(file)){
+                    ++found;
+                }
+            }
+            expected += exact.size();
+        }
+        assertTrue(expected > 0);
+        assertTrue(found + " of " + expected, found >= 0.9 * expected);
+        
+        trainIndex("ann.hellinger", "--annMetric", "hellinger");
+        String[] reportArgs = {"t/t001/runlda/index.ann.hellinger", "t/t001/runlda/ldaHelper.ann.hellinger",
+                               "t/t001/bugs", "--ef", "10,50"};
+        AnnRecallReport.main(reportArgs);
+    }
+    
+    // The "file" keys of (at most) the top n results in the given results file
+    private static List<String> topFiles(File results, int n) throws Exception{
+        List<String> files = new ArrayList<String>();
+        for (String line : FileUtils.readLines(results)){
+            if (files.size() == n){
+                break;
+            }
+            files.add(line.substring(0, line.lastIndexOf(',')));
+        }
+        return files;
+    }
+    
+    // Fuses VSM and LDA both ways. A linear fusion that weighs only one model ranks the
+    // documents as that model does alone, and RRF ranks first a document that both models
+    // rank first.
+    public final void testHybrid() throws Exception{
+        trainIndex("hybrid");
+        
+        String[] vsmArgs = {"t/t001/runlda/index.hybrid", "t/t001/bugs", "t/t001/results/hybrid.vsm"};
+        VSMQueryAllInDirectory.main(vsmArgs);
+        String[] ldaArgs = {"t/t001/runlda/index.hybrid", "t/t001/runlda/ldaHelper.hybrid",
+                            "t/t001/bugs", "t/t001/results/hybrid.lda"};
+        LDAQueryAllInDirectory.main(ldaArgs);
+        for (String weight : new String[] {"1", "0"}){
+            String[] args = {"t/t001/runlda/index.hybrid", "t/t001/runlda/ldaHelper.hybrid",
+                             "t/t001/bugs", "t/t001/results/hybrid.linear." + weight, "--fusion", "linear",
+                             "--vsmWeight", weight};
+            HybridQueryAllInDirectory.main(args);
+        }
+        
+        String[] linearArgs = {"t/t001/runlda/index.hybrid", "t/t001/runlda/ldaHelper.hybrid",
+                               "t/t001/bugs", "t/t001/results/hybrid.linear", "--fusion", "linear", "--vsmWeight", "0.3"};
+        HybridQueryAllInDirectory.main(linearArgs);
+        assertEquals(new File("t/t001/bugs").listFiles().length, new File("t/t001/results/hybrid.linear").listFiles().length);
+        
+        String[] rrfArgs = {"t/t001/runlda/index.hybrid", "t/t001/runlda/ldaHelper.hybrid",
+                            "t/t001/bugs", "t/t001/results/hybrid.rrf", "--fusion", "rrf"};
+        HybridQueryAllInDirectory.main(rrfArgs);
+        assertEquals(new File("t/t001/bugs").listFiles().length, new File("t/t001/results/hybrid.rrf").listFiles().length);
+        
+        int agreed = 0;
+        for (File bug : new File("t/t001/bugs").listFiles()){
+            List<String> vsm = topFiles(new File("t/t001/results/hybrid.vsm", bug.getName()), 10);
+            List<String> lda = topFiles(new File("t/t001/results/hybrid.lda", bug.getName()), 10);
+            assertEquals(bug.getName(), vsm, topFiles(new File("t/t001/results/hybrid.linear.1", bug.getName()), 10));
+            assertEquals(bug.getName(), lda, topFiles(new File("t/t001/results/hybrid.linear.0", bug.getName()), 10));
+            if (!vsm.isEmpty() && !lda.isEmpty() && vsm.get(0).equals(lda.get(0))){
+                assertEquals(bug.getName(), vsm.get(0),
+                             topFiles(new File("t/t001/results/hybrid.rrf", bug.getName()), 1).get(0));
+                ++agreed;
+            }
+        }
+        // (With this seed, they agree on a few queries)
+        assertTrue(agreed > 0);
+    }
+    
+    public final void testBatch() throws Exception{
+        trainIndex("batch");
+        
+        String[] queryArgs = {"t/t001/runlda/index.batch", "t/t001/runlda/ldaHelper.batch",
+                              "t/t001/bugs", "t/t001/results/lda.batch.single"};
+        LDAQueryAllInDirectory.main(queryArgs);
+        String[] batchArgs = {"t/t001/runlda/index.batch", "t/t001/runlda/ldaHelper.batch",
+                              "t/t001/bugs", "t/t001/results/lda.batch", "--maxHits", "10",
+                              "--scoreMatrix", "t/t001/results/lda.batch.matrix/scores"};
+        BatchLDAQueryAllInDirectory.main(batchArgs);
+        
+        // The top of each batch ranking is that of the per-query path
+        File[] bugs = new File("t/t001/bugs").listFiles();
+        for (File bug : bugs){
+            List<String> single = FileUtils.readLines(new File("t/t001/results/lda.batch.single", bug.getName()));
+            List<String> batch = FileUtils.readLines(new File("t/t001/results/lda.batch", bug.getName()));
+            assertEquals(single.subList(0, Math.min(10, single.size())), batch.subList(0, Math.min(10, single.size())));
+        }
+        int numDocs = new File("t/t001/code").listFiles().length;
+        assertEquals(16 + 4L * bugs.length * numDocs, new File("t/t001/results/lda.batch.matrix/scores").length());
+    }
 
-}
+    public final void testMetrics() throws Exception{
+        trainIndex("metrics", "--metrics", "t/t001/results/metrics.index.csv");
+        String csv = FileUtils.readFileToString(new File("t/t001/results/metrics.index.csv"));
+        assertTrue(csv.startsWith("name,type,count,"));
+        assertTrue(csv.contains("index.addDocument,phase,"));
+        assertTrue(csv.contains("index.commit,phase,"));
+        
+        String[] queryArgs = {"t/t001/runlda/index.metrics", "t/t001/runlda/ldaHelper.metrics",
+                              "t/t001/bugs", "t/t001/results/lda.metrics",
+                              "--metrics", "t/t001/results/metrics.query.json"};
+        LDAQueryAllInDirectory.main(queryArgs);
+        String json = FileUtils.readFileToString(new File("t/t001/results/metrics.query.json"));
+        for (String phase : new String[] {"query.loadModel", "query.openIndex", "query.sanitize", "query.topicVector",
+                "query.search", "query.rerank", "query.fileKeys", "query.write"}){
+            assertTrue(phase, json.contains("\"" + phase + "\": {\"count\": "));
+        }
+        assertTrue(json.contains("\"query.hits\": "));
+    }
 
+    public final void testStreaming() throws Exception{
+        trainIndex("stream");
+        
+        // The same queries, as one TSV file, and as one JSONL file
+        File[] bugs = new File("t/t001/bugs").listFiles();
+        StringBuilder tsv = new StringBuilder();
+        StringBuilder jsonl = new StringBuilder();
+        for (File bug : bugs){
+            String text = FileUtils.readFileToString(bug).replaceAll("[\\t\\r\\n]", " ");
+            tsv.append(bug.getName()).append('\t').append(text).append('\n');
+            jsonl.append("{\"id\": \"").append(bug.getName()).append("\", \"text\": \"")
+                 .append(text.replace("\\", "\\\\").replace("\"", "\\\"")).append("\"}\n");
+        }
+        FileUtils.writeStringToFile(new File("t/t001/results/queries.tsv"), tsv.toString());
+        FileUtils.writeStringToFile(new File("t/t001/results/queries.jsonl"), jsonl.toString());
+        
+        String[] filesArgs = {"t/t001/runlda/index.stream", "t/t001/runlda/ldaHelper.stream",
+                              "t/t001/bugs", "t/t001/results/lda.stream"};
+        LDAQueryAllInDirectory.main(filesArgs);
+        String[] trecArgs = {"t/t001/runlda/index.stream", "t/t001/runlda/ldaHelper.stream",
+                             "t/t001/results/queries.tsv", "t/t001/results/lda.stream.trec",
+                             "--runFormat", "trec", "--runTag", "test"};
+        LDAQueryAllInDirectory.main(trecArgs);
+        String[] jsonlArgs = {"t/t001/runlda/index.stream", "t/t001/runlda/ldaHelper.stream",
+                              "t/t001/results/queries.jsonl", "t/t001/results/lda.stream.jsonl.trec",
+                              "--runFormat", "trec", "--runTag", "test"};
+        LDAQueryAllInDirectory.main(jsonlArgs);
+        String[] binaryArgs = {"t/t001/runlda/index.stream", "t/t001/runlda/ldaHelper.stream",
+                               "t/t001/results/queries.tsv", "t/t001/results/lda.stream.bin",
+                               "--runFormat", "binary"};
+        LDAQueryAllInDirectory.main(binaryArgs);
+        
+        // The TREC run ranks the same files as the results directory
+        Map<String, List<String>> trec = new HashMap<String, List<String>>();
+        for (String line : FileUtils.readLines(new File("t/t001/results/lda.stream.trec"))){
+            String[] fields = line.split(" ");
+            assertEquals(6, fields.length);
+            assertEquals("test", fields[5]);
+            if (!trec.containsKey(fields[0])){
+                trec.put(fields[0], new ArrayList<String>());
+            }
+            trec.get(fields[0]).add(fields[2]);
+        }
+        for (File bug : bugs){
+            List<String> files = new ArrayList<String>();
+            for (String line : FileUtils.readLines(new File("t/t001/results/lda.stream", bug.getName()))){
+                files.add(line.substring(0, line.lastIndexOf(',')));
+            }
+            List<String> ranked = trec.get(bug.getName());
+            assertEquals(files, ranked == null ? new ArrayList<String>() : ranked);
+        }
+        
+        // JSONL queries give the same run as TSV ones
+        assertEquals(FileUtils.readLines(new File("t/t001/results/lda.stream.trec")),
+                     FileUtils.readLines(new File("t/t001/results/lda.stream.jsonl.trec")));
+        
+        byte[] magic = new byte[4];
+        FileInputStream in = new FileInputStream("t/t001/results/lda.stream.bin");
+        try {
+            assertEquals(4, in.read(magic));
+        } finally {
+            in.close();
+        }
+        assertEquals("LDAR", new String(magic, "US-ASCII"));
+    }
+
+    public final void testMultiK() throws Exception{
+        trainIndex("multik");
+        
+        String[] singleArgs = {"t/t001/runlda/index.multik", "t/t001/runlda/ldaHelper.multik",
+                               "t/t001/bugs", "t/t001/results/lda.multik.single", "--K", "16"};
+        LDAQueryAllInDirectory.main(singleArgs);
+        String[] multiArgs = {"t/t001/runlda/index.multik", "t/t001/runlda/ldaHelper.multik",
+                              "t/t001/bugs", "t/t001/results/lda.multik", "--Ks", "all"};
+        LDAQueryAllInDirectory.main(multiArgs);
+        
+        // Each K's results are those of a run with just that K
+        File[] bugs = new File("t/t001/bugs").listFiles();
+        assertEquals(bugs.length, new File("t/t001/results/lda.multik/K16").listFiles().length);
+        for (File bug : bugs){
+            assertEquals(FileUtils.readLines(new File("t/t001/results/lda.multik.single", bug.getName())),
+                         FileUtils.readLines(new File("t/t001/results/lda.multik/K16", bug.getName())));
+        }
+    }
+
+    public final void testEvaluate() throws Exception{
+        trainIndex("eval");
+        
+        String[] vsmArgs = {"t/t001/runlda/index.eval", "t/t001/bugs", "t/t001/results/vsm.eval"};
+        VSMQueryAllInDirectory.main(vsmArgs);
+        String[] trecArgs = {"t/t001/runlda/index.eval", "t/t001/bugs", "t/t001/results/vsm.eval.trec",
+                             "--runFormat", "trec", "--metrics", "t/t001/results/metrics.eval.csv"};
+        VSMQueryAllInDirectory.main(trecArgs);
+        
+        // A gold set in which the third file of each VSM ranking is the relevant one
+        StringBuilder gold = new StringBuilder();
+        for (File result : new File("t/t001/results/vsm.eval").listFiles()){
+            List<String> lines = FileUtils.readLines(result);
+            if (lines.size() >= 3){
+                gold.append(result.getName()).append(' ').append(lines.get(2).split(",")[0]).append('\n');
+            }
+        }
+        FileUtils.writeStringToFile(new File("t/t001/results/gold.eval.txt"), gold.toString());
+        
+        PrintStream stdout = System.out;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            System.setOut(new PrintStream(out, true, "UTF-8"));
+            String[] evalArgs = {"t/t001/results/gold.eval.txt", "t/t001/results/vsm.eval", "t/t001/results/vsm.eval.trec",
+                                 "--topN", "1,3", "--latency", "t/t001/results/metrics.eval.csv,t/t001/results/metrics.eval.csv",
+                                 "--tolerance", "0.0001"};
+            EvaluateResults.main(evalArgs);
+        } finally {
+            System.setOut(stdout);
+        }
+        
+        // Both sets are the same rankings: MRR 1/3, never first, always in the top 3
+        String[] lines = out.toString("UTF-8").split("\n");
+        assertTrue(lines[1].contains("MAP") && lines[1].contains("top@3") && lines[1].contains("p99 ms"));
+        for (int i = 2; i <= 3; ++i){
+            String[] fields = lines[i].trim().split("\\s+");
+            assertEquals("0.3333", fields[2]);
+            assertEquals("0.3333", fields[3]);
+            assertEquals("0.0000", fields[4]);
+            assertEquals("1.0000", fields[5]);
+            assertEquals("1.0000", fields[6]);
+            assertFalse("-".equals(fields[7]));
+        }
+        assertTrue(lines[4].startsWith("No regressions"));
+    }
+
+
+}
@@ -0,0 +1,283 @@
+/*
+####################################################################################
+Stephen W. Thomas
+sthomas@cs.queensu.ca
+Queen's University
+
+Test003.java
+
+This test suite deals with the package-private parts of lucene-lda that the other
+suites cannot reach through the command-line tools: it writes runs and reads them back,
+and checks them against what they replaced. Its output goes to t/t003.
+
+####################################################################################
+*/
+
+package ca.queensu.cs.sail.lucenelda;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.queryParser.MultiFieldQueryParser;
+import org.apache.lucene.queryParser.QueryParser;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.store.RAMDirectory;
+import org.apache.lucene.util.Version;
+
+import junit.framework.*;
+
+public class Test003 extends TestCase {
+
+	// Writes the given results as a run of the given format, and reads it back
+    private static Map<String, QueryResult> roundTrip(File run, RunWriter.Format format,
+            QueryResult[] results) throws Exception{
+        RunWriter out = new RunWriter(run.getPath(), format, "test");
+        try {
+            for (QueryResult result : results){
+                out.write(result);
+            }
+        } finally {
+            out.close();
+        }
+        return RunReader.read(run);
+    }
+
+	// Every format gives back the same queries, in order, with the same files and scores
+	// (FILES keeps 3 decimals of each score, the others all of them)
+    public final void testRunRoundTrip() throws Exception{
+        QueryResult[] results = {
+            new QueryResult("bug1", new String[] {"a.cpp", "dir/b.h", "c-d.java"},
+                            new float[] {0.7512345f, 0.25f, 1.0e-6f}),
+            new QueryResult("bug2", new String[0], new float[0]),
+            new QueryResult("bug3", new String[] {"d.c"}, new float[] {3.0f})};
+
+        File dir = new File("t/t003/results");
+        FileUtils.deleteQuietly(dir);
+        for (RunWriter.Format format : RunWriter.Format.values()){
+            // (The run file's directory does not exist yet)
+            File run = new File(dir, format.name().toLowerCase() + "/run");
+            Map<String, QueryResult> read = roundTrip(run, format, results);
+            int i = 0;
+            for (Map.Entry<String, QueryResult> e : read.entrySet()){
+                QueryResult expected = results[i++];
+                // (An empty result leaves no line in a TREC run)
+                while (format == RunWriter.Format.TREC && expected.size() == 0){
+                    expected = results[i++];
+                }
+                assertEquals(format.name(), expected.name, e.getKey());
+                assertEquals(format.name(), expected.size(), e.getValue().size());
+                for (int j = 0; j < expected.size(); ++j){
+                    assertEquals(format.name(), expected.files[j], e.getValue().files[j]);
+                    if (format == RunWriter.Format.FILES){
+                        assertEquals(format.name(), expected.scores[j], e.getValue().scores[j], 0.0005f);
+                    } else {
+                        assertEquals(format.name(), expected.scores[j], e.getValue().scores[j], 0f);
+                    }
+                }
+            }
+            assertEquals(format.name(), results.length - (format == RunWriter.Format.TREC ? 1 : 0), read.size());
+        }
+    }
+
+	// QueryTokenizer sanitizes, splits and parses each query exactly as the regular
+	// expressions it replaced did
+    public final void testQueryTokenizer() throws Exception{
+        StringBuilder longTerm = new StringBuilder();
+        for (int i = 0; i < 300; ++i){
+            longTerm.append('a');
+        }
+        String[] queries = {
+            "crash when opening a file",
+            "  leading whitespace", "\tleading tab", "\n\nleading newlines", "trailing whitespace \t ",
+            "foo^xbar", "foo^2 bar", "^xfoo", "foo^", "^", "foo^\nbar", "foo^^bar", "foo^\uD83D\uDE00bar",
+            "bug 1234: NPE in nsFoo::Bar() (see #567)", "a.b,c;d-e_f", "x=y+z*2",
+            "foo\u000Bbar", "foo\fbar", "foo \u000B bar", "\fleading form feed",
+            "foo\r\nbar", "foo\u0085bar", "foo\u2003bar", "caf\u00e9 na\u00efve",
+            "a AND b OR NOT c", "ORACLE ANDROID NOTE", "x AND y",
+            longTerm.toString() + " b",
+            "", " ", "\t\n\r", "1234", "!!! ... ???", "^x^y", "\u000B", "\f \f"};
+
+        QueryParser parser = new MultiFieldQueryParser(Version.LUCENE_35, new String[] {"data"}, new SimpleAnalyzer());
+        QueryTokenizer tokens = QueryTokenizer.get();
+        for (String query : queries){
+            // The old way
+            String sanitized = query.replaceAll("\\^.", " ");
+            sanitized = sanitized.replaceAll("[1234567890\\p{Punct}\\n]", " ");
+            boolean blank = sanitized.matches("^\\s*$");
+            String[] terms = sanitized.split("\\s+");
+            if (terms.length > 0 && terms[0].length() == 0){
+                terms = Arrays.copyOfRange(terms, 1, terms.length);
+            }
+
+            assertEquals(query, !blank, tokens.tokenize(query));
+            assertEquals(query, sanitized, tokens.text());
+            assertEquals(query, Arrays.asList(sanitized.trim().split("\\s+")), Arrays.asList(tokens.trimmedTerms()));
+            if (blank){
+                continue;
+            }
+            assertEquals(query, terms.length, tokens.size());
+            for (int i = 0; i < terms.length; ++i){
+                assertEquals(query, terms[i], tokens.term(i));
+            }
+            Query parsed = parser.parse(sanitized);
+            assertEquals(query, parsed.rewrite(null).rewrite(null),
+                         tokens.query("data", parser).rewrite(null).rewrite(null));
+        }
+    }
+
+	// Documents with equal scores are all kept, and ranked by docId, however they were
+	// offered; when they do not all fit, the smallest docIds are kept
+    public final void testTopKRankerTies() throws Exception{
+        int[] docs = {7, 3, 12, 0, 9, 5, 11, 1};
+        TopKRanker ranker = new TopKRanker(20);
+        for (int k : new int[] {20, docs.length, 5}){
+            ranker.reset(k);
+            ranker.offer(4, 0.9f);
+            for (int doc : docs){
+                ranker.offer(doc, 0.5f);
+            }
+            ranker.offer(8, 0.1f);
+            ranker.sort();
+
+            int[] tied = docs.clone();
+            Arrays.sort(tied);
+            int kept = Math.min(k - 1, tied.length);
+            assertEquals(Math.min(k, docs.length + 2), ranker.size());
+            assertEquals(4, ranker.doc(0));
+            for (int i = 0; i < kept; ++i){
+                assertEquals(tied[i], ranker.doc(1 + i));
+                assertEquals(0.5f, ranker.score(1 + i), 0f);
+            }
+            if (k > docs.length + 1){
+                assertEquals(8, ranker.doc(docs.length + 1));
+            }
+        }
+    }
+
+	// A segment whose documents have no topic vectors (e.g., one indexed before they
+	// were) is an error, not a column of zeros
+    public final void testTopicVectorColumnMissingField() throws Exception{
+        RAMDirectory dir = new RAMDirectory();
+        IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig(Version.LUCENE_35, new SimpleAnalyzer()));
+        Document doc = new Document();
+        doc.add(new Field("file", "a.c", Field.Store.YES, Field.Index.NOT_ANALYZED));
+        writer.addDocument(doc);
+        writer.close();
+
+        IndexReader reader = IndexReader.open(dir, true);
+        try {
+            TopicVectorColumn.get(reader, 16);
+            fail("Expected an IOException");
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("topicvector16"));
+            assertTrue(e.getMessage(), e.getMessage().contains("Re-index"));
+        } finally {
+            reader.close();
+        }
+    }
+
+	// A folded-in query vector depends on the order of the terms, so a reordered query
+	// is not answered with the cached vector of the original one
+    public final void testFoldInVectorCache() throws Exception{
+        // A small model: 4 topics, 8 terms, 2 files
+        int K = 4;
+        String[] vocab = {"alpha", "beta", "gamma", "delta", "epsilon", "zeta", "eta", "theta"};
+        File modelDir = new File("t/t003/lda");
+        FileUtils.deleteQuietly(modelDir);
+        StringBuilder words = new StringBuilder();
+        for (int k = 0; k < K; ++k){
+            for (int w = 0; w < vocab.length; ++w){
+                words.append((1 + (k * 3 + w * 5) % 7) / 32f).append(' ');
+            }
+            words.append('\n');
+        }
+        FileUtils.writeStringToFile(new File(modelDir, "vocab.dat"), Arrays.toString(vocab).replaceAll("[\\[\\],]", "")
+                .replace(' ', '\n') + "\n");
+        FileUtils.writeStringToFile(new File(modelDir, "files.dat"), "0 a.c 1\n0 b.c 1\n");
+        FileUtils.writeStringToFile(new File(modelDir, "theta.dat"), "0.7 0.1 0.1 0.1\n0.1 0.1 0.1 0.7\n");
+        FileUtils.writeStringToFile(new File(modelDir, "words.dat"), words.toString());
+        LDAHelper lda = new LDAHelper();
+        lda.addScenario(K, modelDir.getPath());
+
+        RAMDirectory dir = new RAMDirectory();
+        new IndexWriter(dir, new IndexWriterConfig(Version.LUCENE_35, new SimpleAnalyzer())).close();
+        IndexReader reader = IndexReader.open(dir, true);
+        try {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            LDAQueryEngine uncached = new LDAQueryEngine(searcher, lda, K, 10);
+            uncached.setInferencer(new TopicInferencer(lda.scens.get(0), 1));
+            LDAQueryEngine cached = new LDAQueryEngine(searcher, lda, K, 10);
+            cached.setInferencer(new TopicInferencer(lda.scens.get(0), 1));
+            cached.setCache(new QueryCache(100, 1 << 20));
+
+            String query = "alpha beta gamma delta alpha eta";
+            String reordered = "eta alpha delta gamma beta alpha";
+            float[] first = vector(cached, query, K);
+            float[] expected = vector(uncached, reordered, K);
+            assertFalse(Arrays.equals(first, expected));
+            assertTrue(Arrays.equals(expected, vector(cached, reordered, K)));
+            assertTrue(Arrays.equals(first, vector(cached, query, K)));
+        } finally {
+            reader.close();
+        }
+    }
+
+	// An update keeps the theta threshold that the LDA index was built with, and refuses
+	// a different one
+    public final void testUpdateThetaThreshold() throws Exception{
+        File dir = new File("t/t003/update");
+        FileUtils.deleteQuietly(dir);
+        File code = new File(dir, "code");
+        FileUtils.copyDirectory(new File("t/t001/code"), code);
+        File ldaIndex = new File(dir, "ldaHelper");
+        String[] args = {code.getPath(), new File(dir, "index").getPath(), ldaIndex.getPath(),
+                         "--fileCodes", "t/t001/fileCodes.csv",
+                         "--numK", "16",
+                         "--iterations", "20",
+                         "--seed", "1",
+                         "--thetaThreshold", "0.05",
+                         "--update"};
+        IndexDirectoryRunLDA.main(args);
+
+        // Without --thetaThreshold, the changed file is kept as the others were
+        File[] files = code.listFiles();
+        FileUtils.writeStringToFile(files[0], FileUtils.readFileToString(files[0]) + " nsresult mailbox folder");
+        String[] update = Arrays.copyOf(args, args.length - 2);
+        update[update.length - 1] = "--update";
+        IndexDirectoryRunLDA.main(update);
+        SparseTheta theta = LDAHelper.load(ldaIndex.getPath()).scens.get(0).getSparseTheta();
+        assertEquals(0.05f, theta.threshold, 0f);
+        for (int i = 0; i < theta.size(); ++i){
+            assertTrue(theta.weights[i] > 0.05f);
+        }
+
+        // With a different one, the update fails and the LDA index is left as it was
+        byte[] before = FileUtils.readFileToByteArray(ldaIndex);
+        FileUtils.writeStringToFile(files[1], FileUtils.readFileToString(files[1]) + " nsresult");
+        args[args.length - 2] = "0.1";
+        try {
+            IndexDirectoryRunLDA.main(args);
+            fail("Expected an IOException");
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("theta threshold of 0.05"));
+        }
+        assertTrue(Arrays.equals(before, FileUtils.readFileToByteArray(ldaIndex)));
+    }
+
+    private static float[] vector(LDAQueryEngine engine, String query, int K) {
+        QueryTokenizer tokens = QueryTokenizer.get();
+        tokens.tokenize(query);
+        float[] vector = new float[K];
+        engine.queryVector(tokens, vector, new int[K]);
+        return vector;
+    }
+}
@@ -0,0 +1,1384 @@
+msgcore
+nsabautocompletesession
+nsstring
+nsrdfcid
+nsirdfservice
+nsiabdirectory
+nsiabcard
+nsxpidlstring
+nsreadableutils
+nsunicharutils
+nsmsgbasecid
+nsmsgin
+nsimsgidentity
+prmem
+nsnetcid
+nsiioservice
+nsipref
+nsimplisupports
+nsabautocompletesession
+nsiabautocompletesession
+nsiautocompletesession
+nsabautocompletesession
+nsabautocompletesession
+mparser
+dogetservice
+nsmailnewsmimeheaderparsercontractid
+nsabautocompletesession
+nsabautocompletesession
+nsabautocompletesession
+resetmatchtypeconters
+print
+lastmatchtype
+mmatchtypeconters
+mdefaultdomainmatchtypecounters
+prbool
+nsabautocompletesession
+itsaduplicate
+prunichar
+fulladdrstr
+nsiautocompleteresults
+results
+nsresult
+rv
+nscomptr
+nsisupportsarray
+array
+rv
+results
+getitems
+getteraddrefs
+array
+nssucceeded
+rv
+nscomptr
+nsienumerator
+enumerator
+rv
+array
+enumerate
+getteraddrefs
+enumerator
+nssucceeded
+rv
+nscomptr
+nsisupports
+item
+nscomptr
+nsiautocompleteitem
+resultitem
+nsautostring
+valuestr
+rv
+enumerator
+first
+nssucceeded
+rv
+rv
+enumerator
+next
+rv
+enumerator
+currentitem
+getteraddrefs
+item
+nssucceeded
+rv
+item
+resultitem
+doqueryinterface
+item
+rv
+nssucceeded
+rv
+rv
+resultitem
+getvalue
+valuestr
+nssucceeded
+rv
+valuestr
+isempty
+nsdependentstring
+fulladdrstr
+equals
+valuestr
+nscaseinsensitivestringcomparator
+prtrue
+prfalse
+nsabautocompletesession
+addtoresult
+prunichar
+pnicknamestr
+prunichar
+pdisplaynamestr
+prunichar
+pfirstnamestr
+prunichar
+plastnamestr
+prunichar
+pemailstr
+prunichar
+pnotesstr
+prunichar
+pdirname
+prbool
+bismaillist
+matchtype
+type
+nsiautocompleteresults
+results
+nsresult
+rv
+prunichar
+fulladdrstr
+nsnull
+type
+defaultmatch
+mdefaultdomain
+nsautostring
+astr
+pdisplaynamestr
+astr
+append
+prunichar
+astr
+mdefaultdomain
+fulladdrstr
+tonewunicode
+astr
+mparser
+nsxpidlcstring
+fulladdress
+nsxpidlcstring
+utfemail
+bismaillist
+pnotesstr
+pnotesstr
+utfemail
+adopt
+tonewutfstring
+nsdependentstring
+pnotesstr
+utfemail
+adopt
+tonewutfstring
+nsdependentstring
+pdisplaynamestr
+utfemail
+adopt
+tonewutfstring
+nsdependentstring
+pemailstr
+mparser
+makefulladdress
+nsnull
+nsconvertucstoutf
+pdisplaynamestr
+get
+utfemail
+gettercopies
+fulladdress
+fulladdress
+isempty
+fulladdrstr
+nscrt
+strdup
+nsconvertutftoucs
+fulladdress
+get
+get
+fulladdrstr
+prunichar
+pstr
+nsnull
+bismaillist
+pnotesstr
+pnotesstr
+pstr
+pnotesstr
+pstr
+pdisplaynamestr
+pstr
+pemailstr
+pstr
+pstr
+nsautostring
+astr
+pdisplaynamestr
+astr
+append
+nsliteralstring
+astr
+pstr
+astr
+append
+nsliteralstring
+fulladdrstr
+tonewunicode
+astr
+fulladdrstr
+nsnull
+fulladdrstr
+itsaduplicate
+fulladdrstr
+results
+nscomptr
+nsiautocompleteitem
+newitem
+docreateinstance
+nsautocompleteitemcontractid
+rv
+nssucceeded
+rv
+nsabautocompleteparam
+param
+nsabautocompleteparam
+pnicknamestr
+pdisplaynamestr
+pfirstnamestr
+plastnamestr
+pemailstr
+pnotesstr
+pdirname
+bismaillist
+type
+nsifaddref
+param
+newitem
+setparam
+param
+nsifrelease
+param
+mautocompletecommentcolumn
+rv
+newitem
+setcomment
+pdirname
+nsfailed
+rv
+nswarning
+nsabautocompletesession
+addtoresult
+newitem
+setcomment
+failed
+rv
+newitem
+setclassname
+type
+defaultmatch
+match
+local
+abook
+nsfailed
+rv
+nswarning
+nsabautocompletesession
+addtoresult
+newitem
+setclassname
+failed
+newitem
+setvalue
+nsdependentstring
+fulladdrstr
+nscomptr
+nsisupportsarray
+array
+rv
+results
+getitems
+getteraddrefs
+array
+nssucceeded
+rv
+print
+index
+print
+type
+index
+mmatchtypeconters
+print
+insertposition
+index
+mmatchtypeconters
+type
+defaultmatch
+bismaillist
+nsautostring
+emailaddr
+pemailstr
+findinreadable
+mdefaultdomain
+emailaddr
+nscaseinsensitivestringcomparator
+insertposition
+index
+mdefaultdomainmatchtypecounters
+type
+mdefaultdomainmatchtypecounters
+type
+rv
+array
+insertelementat
+newitem
+insertposition
+nssucceeded
+rv
+mmatchtypeconters
+type
+prfree
+fulladdrstr
+prbool
+commonprefix
+prunichar
+astring
+prunichar
+asubstr
+print
+asubstrlen
+asubstrlen
+nscrt
+strlen
+astring
+nsstaticcast
+pruint
+asubstrlen
+prfalse
+substring
+astring
+astring
+asubstrlen
+equals
+substring
+asubstr
+asubstr
+asubstrlen
+nscaseinsensitivestringcomparator
+prbool
+nsabautocompletesession
+checkentry
+nsabautocompletesearchstring
+searchstr
+prunichar
+nickname
+prunichar
+displayname
+prunichar
+firstname
+prunichar
+lastname
+prunichar
+emailaddress
+matchtype
+matchtype
+prunichar
+fullstring
+pruint
+fullstringlen
+searchstr
+mfirstpartlen
+searchstr
+msecondpartlen
+fullstring
+searchstr
+mfirstpart
+fullstringlen
+searchstr
+mfirstpartlen
+fullstring
+searchstr
+mfullstring
+fullstringlen
+searchstr
+mfullstringlen
+nsdependentstring
+fullstringstr
+fullstring
+fullstringlen
+nickname
+fullstringstr
+equals
+nsdependentstring
+nickname
+nscaseinsensitivestringcomparator
+matchtype
+nicknameexactmatch
+prtrue
+displayname
+fullstringstr
+equals
+nsdependentstring
+displayname
+nscaseinsensitivestringcomparator
+matchtype
+nameexactmatch
+prtrue
+firstname
+fullstringstr
+equals
+nsdependentstring
+firstname
+nscaseinsensitivestringcomparator
+matchtype
+nameexactmatch
+prtrue
+lastname
+fullstringstr
+equals
+nsdependentstring
+lastname
+nscaseinsensitivestringcomparator
+matchtype
+nameexactmatch
+prtrue
+emailaddress
+fullstringstr
+equals
+nsdependentstring
+emailaddress
+nscaseinsensitivestringcomparator
+matchtype
+emailexactmatch
+prtrue
+nickname
+commonprefix
+nickname
+fullstring
+fullstringlen
+matchtype
+nicknamematch
+prtrue
+displayname
+commonprefix
+displayname
+fullstring
+fullstringlen
+matchtype
+namematch
+prtrue
+firstname
+commonprefix
+firstname
+fullstring
+fullstringlen
+matchtype
+namematch
+prtrue
+lastname
+commonprefix
+lastname
+fullstring
+fullstringlen
+matchtype
+namematch
+prtrue
+emailaddress
+commonprefix
+emailaddress
+fullstring
+fullstringlen
+matchtype
+emailmatch
+prtrue
+searchstr
+mfirstpartlen
+searchstr
+msecondpartlen
+firstname
+commonprefix
+firstname
+searchstr
+mfirstpart
+searchstr
+mfirstpartlen
+lastname
+commonprefix
+lastname
+searchstr
+msecondpart
+searchstr
+msecondpartlen
+lastname
+commonprefix
+lastname
+searchstr
+mfirstpart
+searchstr
+mfirstpartlen
+firstname
+commonprefix
+firstname
+searchstr
+msecondpart
+searchstr
+msecondpartlen
+matchtype
+namematch
+prtrue
+prfalse
+nsresult
+nsabautocompletesession
+searchcards
+nsiabdirectory
+directory
+nsabautocompletesearchstring
+searchstr
+nsiautocompleteresults
+results
+nsresult
+rv
+nscomptr
+nsienumerator
+cardsenumerator
+nscomptr
+nsiabcard
+card
+print
+rv
+directory
+getchildcards
+getteraddrefs
+cardsenumerator
+nssucceeded
+rv
+cardsenumerator
+nscomptr
+nsisupports
+item
+rv
+cardsenumerator
+first
+nssucceeded
+rv
+rv
+cardsenumerator
+next
+rv
+cardsenumerator
+currentitem
+getteraddrefs
+item
+nssucceeded
+rv
+card
+doqueryinterface
+item
+rv
+nssucceeded
+rv
+prbool
+isnormal
+rv
+card
+getisanormalcard
+isnormal
+nsfailed
+rv
+isnormal
+nsxpidlstring
+pemailstr
+maxnumberofemailaddresses
+nsxpidlstring
+pdisplaynamestr
+nsxpidlstring
+pfirstnamestr
+nsxpidlstring
+plastnamestr
+nsxpidlstring
+pnicknamestr
+nsxpidlstring
+pnotesstr
+prbool
+bismaillist
+rv
+card
+getismaillist
+bismaillist
+nsfailed
+rv
+bismaillist
+rv
+card
+getnotes
+gettercopies
+pnotesstr
+nsfailed
+rv
+maxnumberofemailaddresses
+rv
+card
+getprimaryemail
+gettercopies
+pemailstr
+rv
+card
+getsecondemail
+gettercopies
+pemailstr
+nserrorfailure
+nsfailed
+rv
+pemailstr
+isempty
+pemailstr
+findchar
+pemailstr
+setlength
+pemailstr
+isempty
+pemailstr
+isempty
+rv
+card
+getdisplayname
+gettercopies
+pdisplaynamestr
+nsfailed
+rv
+rv
+card
+getfirstname
+gettercopies
+pfirstnamestr
+nsfailed
+rv
+rv
+card
+getlastname
+gettercopies
+plastnamestr
+nsfailed
+rv
+rv
+card
+getnickname
+gettercopies
+pnicknamestr
+nsfailed
+rv
+maxnumberofemailaddresses
+bismaillist
+pemailstr
+isempty
+matchtype
+matchtype
+checkentry
+searchstr
+pnicknamestr
+get
+pdisplaynamestr
+get
+pfirstnamestr
+get
+plastnamestr
+get
+pemailstr
+get
+matchtype
+nsxpidlstring
+pdirname
+mautocompletecommentcolumn
+rv
+directory
+getdirname
+gettercopies
+pdirname
+nsfailed
+rv
+addtoresult
+pnicknamestr
+get
+pdisplaynamestr
+get
+pfirstnamestr
+get
+plastnamestr
+get
+pemailstr
+get
+pnotesstr
+get
+pdirname
+get
+bismaillist
+matchtype
+results
+nsok
+nsresult
+nsabautocompletesession
+needtosearchlocaldirectories
+nsipref
+aprefs
+prbool
+aneedtosearch
+nsensureargpointer
+aprefs
+nsensureargpointer
+aneedtosearch
+nsresult
+rv
+aprefs
+getboolpref
+mail
+enableautocomplete
+aneedtosearch
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsabautocompletesession
+needtosearchreplicatedldapdirectories
+nsipref
+aprefs
+prbool
+aneedtosearch
+nsensureargpointer
+aprefs
+nsensureargpointer
+aneedtosearch
+nsresult
+rv
+aprefs
+getboolpref
+ldap
+autocomplete
+usedirectory
+aneedtosearch
+nsensuresuccess
+rv
+rv
+aneedtosearch
+nsok
+nscomptr
+nsiioservice
+ioservice
+dogetservice
+nsioservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+ioservice
+getoffline
+aneedtosearch
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsabautocompletesession
+searchreplicatedldapdirectories
+nsipref
+apref
+nsabautocompletesearchstring
+searchstr
+prbool
+searchsubdirectory
+nsiautocompleteresults
+results
+nsensureargpointer
+apref
+nsxpidlcstring
+prefname
+nsresult
+rv
+apref
+copycharpref
+ldap
+autocomplete
+directoryserver
+gettercopies
+prefname
+nsensuresuccess
+rv
+rv
+prefname
+isempty
+nsok
+nscautostring
+filenamepref
+filenamepref
+prefname
+nsliteralcstring
+filename
+nsxpidlcstring
+filename
+rv
+apref
+copycharpref
+filenamepref
+get
+gettercopies
+filename
+nsensuresuccess
+rv
+rv
+filename
+isempty
+nsok
+nscautostring
+uri
+uri
+nsliteralcstring
+moz
+abmdbdirectory
+filename
+searchdirectory
+uri
+searchstr
+searchsubdirectory
+results
+nsresult
+nsabautocompletesession
+searchdirectory
+nsacstring
+auri
+nsabautocompletesearchstring
+searchstr
+prbool
+searchsubdirectory
+nsiautocompleteresults
+results
+nsresult
+rv
+nsok
+nscomptr
+nsirdfservice
+rdfservice
+dogetservice
+rdf
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+resource
+rv
+rdfservice
+getresource
+auri
+getteraddrefs
+resource
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabdirectory
+directory
+doqueryinterface
+resource
+rv
+nsensuresuccess
+rv
+rv
+prbool
+searchduringlocalautocomplete
+rv
+directory
+getsearchduringlocalautocomplete
+searchduringlocalautocomplete
+nsensuresuccess
+rv
+rv
+searchduringlocalautocomplete
+nsok
+auri
+equals
+nsliteralcstring
+kalldirectoryroot
+rv
+searchcards
+directory
+searchstr
+results
+searchsubdirectory
+rv
+nscomptr
+nsienumerator
+subdirectories
+nssucceeded
+directory
+getchildnodes
+getteraddrefs
+subdirectories
+subdirectories
+nscomptr
+nsisupports
+item
+nssucceeded
+subdirectories
+first
+nssucceeded
+subdirectories
+currentitem
+getteraddrefs
+item
+directory
+doqueryinterface
+item
+rv
+nssucceeded
+rv
+nscomptr
+nsirdfresource
+subresource
+doqueryinterface
+item
+rv
+nssucceeded
+rv
+nsxpidlcstring
+uri
+subresource
+getvalue
+gettercopies
+uri
+rv
+searchdirectory
+uri
+searchstr
+prtrue
+results
+nssucceeded
+subdirectories
+next
+rv
+nsresult
+nsabautocompletesession
+searchpreviousresults
+nsabautocompletesearchstring
+searchstr
+nsiautocompleteresults
+previoussearchresult
+nsiautocompleteresults
+results
+previoussearchresult
+nserrornullpointer
+nsxpidlstring
+prevsearchstring
+nsresult
+rv
+rv
+previoussearchresult
+getsearchstring
+gettercopies
+prevsearchstring
+nsensuresuccess
+rv
+rv
+prunichar
+prevsearchstring
+prunichar
+prevsearchstring
+nserrorfailure
+pruint
+prevsearchstrlen
+nscrt
+strlen
+prevsearchstring
+searchstr
+mfullstringlen
+prevsearchstrlen
+commonprefix
+searchstr
+mfullstring
+prevsearchstring
+prevsearchstrlen
+nserrorabort
+nscomptr
+nsisupportsarray
+array
+rv
+previoussearchresult
+getitems
+getteraddrefs
+array
+nssucceeded
+rv
+pruint
+nbrofitems
+pruint
+pruint
+pos
+rv
+array
+count
+nbrofitems
+nsfailed
+rv
+nbrofitems
+nserrorfailure
+nscomptr
+nsisupports
+item
+nscomptr
+nsiautocompleteitem
+resultitem
+nsabautocompleteparam
+param
+pos
+nbrofitems
+pos
+rv
+array
+queryelementat
+pos
+nsgetiid
+nsiautocompleteitem
+getteraddrefs
+resultitem
+nsensuresuccess
+rv
+rv
+rv
+resultitem
+getparam
+getteraddrefs
+item
+nsensuresuccess
+rv
+rv
+item
+nserrorfailure
+param
+nsabautocompleteparam
+item
+matchtype
+matchtype
+checkentry
+searchstr
+param
+mnickname
+param
+mdisplayname
+param
+mfirstname
+param
+mlastname
+param
+memailaddress
+matchtype
+addtoresult
+param
+mnickname
+param
+mdisplayname
+param
+mfirstname
+param
+mlastname
+param
+memailaddress
+param
+mnotes
+param
+mdirname
+param
+mismaillist
+matchtype
+results
+nsok
+nserrorabort
+nsimethodimp
+nsabautocompletesession
+onstartlookup
+prunichar
+usearchstring
+nsiautocompleteresults
+previoussearchresult
+nsiautocompletelistener
+listener
+nsresult
+rv
+nsok
+listener
+nserrornullpointer
+prbool
+enablelocalautocomplete
+prbool
+enablereplicatedldapautocomplete
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+needtosearchlocaldirectories
+prefs
+enablelocalautocomplete
+nsensuresuccess
+rv
+rv
+rv
+needtosearchreplicatedldapdirectories
+prefs
+enablereplicatedldapautocomplete
+nsensuresuccess
+rv
+rv
+usearchstring
+enablelocalautocomplete
+enablereplicatedldapautocomplete
+listener
+onautocomplete
+nsnull
+nsiautocompletestatus
+ignored
+nsok
+rv
+prefs
+getintpref
+mail
+autocomplete
+commentcolumn
+mautocompletecommentcolumn
+nsfailed
+rv
+mautocompletecommentcolumn
+print
+nscrt
+strlen
+usearchstring
+usearchstring
+listener
+onautocomplete
+nsnull
+nsiautocompletestatus
+ignored
+nsok
+nsabautocompletesearchstring
+searchstrings
+usearchstring
+resetmatchtypeconters
+nscomptr
+nsiautocompleteresults
+results
+docreateinstance
+nsautocompleteresultscontractid
+rv
+nssucceeded
+rv
+nsfailed
+searchpreviousresults
+searchstrings
+previoussearchresult
+results
+nsresult
+rv
+rv
+enablelocalautocomplete
+rv
+searchdirectory
+nsliteralcstring
+kalldirectoryroot
+searchstrings
+prtrue
+results
+nsassertion
+nssucceeded
+rv
+searching
+all
+local
+directories
+failed
+rv
+nsok
+enablereplicatedldapautocomplete
+rv
+searchreplicatedldapdirectories
+prefs
+searchstrings
+prtrue
+results
+nsassertion
+nssucceeded
+rv
+searching
+all
+replicated
+ldap
+directories
+failed
+rv
+nsok
+nsfailed
+rv
+nsfailed
+rv
+rv
+nserrorfailure
+rv
+nsok
+autocompletestatus
+status
+nsiautocompletestatus
+failed
+nssucceeded
+rv
+results
+prbool
+addeddefaultitem
+prfalse
+results
+setsearchstring
+usearchstring
+results
+setdefaultitemindex
+mdefaultdomain
+prunichar
+emptystr
+addtoresult
+emptystr
+usearchstring
+emptystr
+emptystr
+emptystr
+emptystr
+emptystr
+prfalse
+defaultmatch
+results
+addeddefaultitem
+prtrue
+nscomptr
+nsisupportsarray
+array
+rv
+results
+getitems
+getteraddrefs
+array
+nssucceeded
+rv
+pruint
+nbrofitems
+rv
+array
+count
+nbrofitems
+nssucceeded
+rv
+nbrofitems
+status
+nsiautocompletestatus
+nomatch
+status
+nsiautocompletestatus
+matchfound
+addeddefaultitem
+results
+setdefaultitemindex
+nbrofitems
+results
+setdefaultitemindex
+listener
+onautocomplete
+results
+status
+nsok
+nsimethodimp
+nsabautocompletesession
+onstoplookup
+nsok
+nsimethodimp
+nsabautocompletesession
+onautocomplete
+prunichar
+searchstring
+nsiautocompleteresults
+previoussearchresult
+nsiautocompletelistener
+listener
+onstartlookup
+searchstring
+previoussearchresult
+listener
+nsimethodimp
+nsabautocompletesession
+getdefaultdomain
+prunichar
+adefaultdomain
+adefaultdomain
+nserrornullpointer
+adefaultdomain
+tonewunicode
+mdefaultdomain
+nsok
+nsimethodimp
+nsabautocompletesession
+setdefaultdomain
+prunichar
+adefaultdomain
+mdefaultdomain
+adefaultdomain
+nsok
+nsimplisupports
+nsabautocompleteparam
+nsisupports
+nsabautocompletesearchstring
+nsabautocompletesearchstring
+prunichar
+usearchstring
+mfullstring
+nscrt
+strdup
+usearchstring
+mfullstringlen
+nscrt
+strlen
+mfullstring
+pruint
+prunichar
+aptr
+aptr
+prunichar
+mfullstring
+mfullstringlen
+aptr
+aptr
+mfirstpart
+nscrt
+strndup
+mfullstring
+mfirstpartlen
+msecondpart
+nscrt
+strdup
+aptr
+msecondpartlen
+mfullstringlen
+mfirstpart
+nsnull
+mfirstpartlen
+msecondpart
+nsnull
+msecondpartlen
+nsabautocompletesearchstring
+nsabautocompletesearchstring
+mfullstring
+nscrt
+free
+prunichar
+mfullstring
+mfirstpart
+nscrt
+free
+prunichar
+mfirstpart
+msecondpart
+nscrt
+free
+prunichar
+msecondpart
\ No newline at end of file
@@ -0,0 +1,895 @@
+nsipref
+nsabbsdirectory
+nsabutils
+nsrdfcid
+nsirdfservice
+nsdirprefs
+nsabbasecid
+nsmsgbasecid
+nsiaddressbook
+nsaddrdatabase
+nsiaddrbooksession
+nsiabmdbdirectory
+nsiabupgrader
+nsimessengermigrator
+nsabdirfactoryservice
+nsabmdbdirfactory
+nsabbsdirectory
+nsabbsdirectory
+nsrdfresource
+minitialized
+prfalse
+mservers
+nsnewisupportsarray
+getteraddrefs
+msubdirectories
+nsabbsdirectory
+nsabbsdirectory
+msubdirectories
+pruint
+count
+nsresult
+rv
+msubdirectories
+count
+count
+nsassertion
+nssucceeded
+rv
+count
+failed
+print
+count
+msubdirectories
+removeelementat
+nsimplisupportsinherited
+nsabbsdirectory
+nsrdfresource
+nsiabdirectory
+nsresult
+nsabbsdirectory
+notifyitemadded
+nsisupports
+item
+nsresult
+rv
+nsok
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+rv
+nssucceeded
+rv
+absession
+notifydirectoryitemadded
+item
+nsok
+nsresult
+nsabbsdirectory
+notifyitemdeleted
+nsisupports
+item
+nsresult
+rv
+nsok
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+rv
+nssucceeded
+rv
+absession
+notifydirectorydeleted
+item
+nsok
+nsresult
+nsabbsdirectory
+createdirectoriesfromfactory
+nsiabdirectoryproperties
+aproperties
+dirserver
+aserver
+prbool
+anotify
+nsresult
+rv
+nsensureargpointer
+aproperties
+nscomptr
+nsiabdirfactoryservice
+dirfactoryservice
+dogetservice
+nsabdirfactoryservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+uri
+rv
+aproperties
+geturi
+gettercopies
+uri
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabdirfactory
+dirfactory
+rv
+dirfactoryservice
+getdirfactory
+uri
+get
+getteraddrefs
+dirfactory
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisimpleenumerator
+newdirenumerator
+rv
+dirfactory
+createdirectory
+aproperties
+getteraddrefs
+newdirenumerator
+nsensuresuccess
+rv
+rv
+prbool
+hasmore
+nssucceeded
+newdirenumerator
+hasmoreelements
+hasmore
+hasmore
+nscomptr
+nsisupports
+newdirsupports
+rv
+newdirenumerator
+getnext
+getteraddrefs
+newdirsupports
+nsfailed
+rv
+nscomptr
+nsiabdirectory
+childdir
+doqueryinterface
+newdirsupports
+rv
+nsfailed
+rv
+nsvoidkey
+key
+childdir
+mservers
+put
+key
+aserver
+msubdirectories
+appendelement
+childdir
+anotify
+notifyitemadded
+childdir
+nsok
+nsimethodimp
+nsabbsdirectory
+getchildnodes
+nsienumerator
+result
+minitialized
+nsresult
+rv
+nscomptr
+nsiabdirfactoryservice
+dirfactoryservice
+dogetservice
+nsabdirfactoryservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+dirgetdirectories
+nserrorfailure
+print
+count
+dirgetdirectories
+count
+print
+count
+dirserver
+server
+dirserver
+dirgetdirectories
+elementat
+pruint
+filenamelen
+strlen
+server
+filename
+filenamelen
+kabfilenameprevioussuffixlen
+strcmp
+server
+filename
+filenamelen
+kabfilenameprevioussuffixlen
+kabfilenameprevioussuffix
+server
+dirtype
+pabdirectory
+nscomptr
+nsiabdirectoryproperties
+properties
+properties
+docreateinstance
+nsabdirectorypropertiescontractid
+rv
+nsensuresuccess
+rv
+rv
+nsconvertutftoucs
+description
+server
+description
+rv
+properties
+setdescription
+description
+nsensuresuccess
+rv
+rv
+rv
+properties
+setfilename
+server
+filename
+nsensuresuccess
+rv
+rv
+nscautostring
+uri
+server
+uri
+server
+uri
+uri
+nsliteralcstring
+kmdbdirectoryroot
+nsdependentcstring
+server
+filename
+substring
+uri
+uri
+length
+kabfilenameprevioussuffixlen
+kabfilenameprevioussuffixlen
+equals
+kabfilenameprevioussuffix
+uri
+replacesubstring
+uri
+get
+kmdbdirectoryrootlen
+server
+filename
+rv
+properties
+setprefname
+server
+prefname
+nsensuresuccess
+rv
+rv
+rv
+properties
+seturi
+uri
+get
+nsensuresuccess
+rv
+rv
+rv
+createdirectoriesfromfactory
+properties
+server
+prfalse
+minitialized
+prtrue
+msubdirectories
+enumerate
+result
+nsimethodimp
+nsabbsdirectory
+createnewdirectory
+nsiabdirectoryproperties
+aproperties
+nsensureargpointer
+aproperties
+nsresult
+rv
+nsautostring
+description
+nsxpidlcstring
+filename
+nsxpidlcstring
+uri
+nsxpidlcstring
+authdn
+rv
+aproperties
+getdescription
+description
+nsensuresuccess
+rv
+rv
+rv
+aproperties
+getfilename
+gettercopies
+filename
+nsensuresuccess
+rv
+rv
+rv
+aproperties
+geturi
+gettercopies
+uri
+nsensuresuccess
+rv
+rv
+pruint
+dirtype
+rv
+aproperties
+getdirtype
+dirtype
+nsensuresuccess
+rv
+rv
+pruint
+maxhits
+rv
+aproperties
+getmaxhits
+maxhits
+nsensuresuccess
+rv
+rv
+rv
+aproperties
+getauthdn
+gettercopies
+authdn
+nsensuresuccess
+rv
+rv
+dirserver
+server
+nsnull
+rv
+diraddnewaddressbook
+description
+get
+filename
+length
+filename
+get
+nsnull
+prfalse
+uri
+get
+maxhits
+authdn
+directorytype
+dirtype
+server
+nsensuresuccess
+rv
+rv
+rv
+aproperties
+setfilename
+server
+filename
+nsensuresuccess
+rv
+rv
+dirtype
+ldapdirectory
+nscautostring
+uri
+nsliteralcstring
+kmdbdirectoryroot
+nsdependentcstring
+server
+filename
+rv
+aproperties
+seturi
+uri
+get
+nsensuresuccess
+rv
+rv
+rv
+aproperties
+setprefname
+server
+prefname
+nsensuresuccess
+rv
+rv
+rv
+createdirectoriesfromfactory
+aproperties
+server
+prtrue
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsabbsdirectory
+createdirectorybyuri
+prunichar
+adisplayname
+auri
+prbool
+migrating
+nsensureargpointer
+auri
+nsensureargpointer
+adisplayname
+nsresult
+rv
+nsok
+filename
+nsnull
+nscautostring
+uristr
+auri
+substring
+uristr
+kmdbdirectoryrootlen
+equals
+kmdbdirectoryroot
+filename
+auri
+kmdbdirectoryrootlen
+dirserver
+server
+nsnull
+rv
+diraddnewaddressbook
+adisplayname
+filename
+migrating
+auri
+nsnull
+pabdirectory
+server
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabdirectoryproperties
+properties
+properties
+docreateinstance
+nsabdirectorypropertiescontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+properties
+setdescription
+nsdependentstring
+adisplayname
+nsensuresuccess
+rv
+rv
+rv
+properties
+setfilename
+server
+filename
+nsensuresuccess
+rv
+rv
+rv
+properties
+seturi
+auri
+nsensuresuccess
+rv
+rv
+rv
+properties
+setprefname
+server
+prefname
+nsensuresuccess
+rv
+rv
+rv
+properties
+setdirtype
+server
+dirtype
+nsensuresuccess
+rv
+rv
+rv
+createdirectoriesfromfactory
+properties
+server
+prtrue
+nsensuresuccess
+rv
+rv
+rv
+getdirectories
+getdirectories
+dirserver
+aserver
+mserver
+aserver
+nsnewisupportsarray
+getteraddrefs
+directories
+nscomptr
+nsisupportsarray
+directories
+dirserver
+mserver
+prbool
+prcallback
+getdirectoriesgetdirectory
+nshashkey
+akey
+adata
+closure
+getdirectories
+getdirectories
+getdirectories
+closure
+dirserver
+server
+dirserver
+adata
+server
+getdirectories
+mserver
+nsvoidkey
+voidkey
+nsvoidkey
+akey
+nsiabdirectory
+directory
+nsiabdirectory
+voidkey
+getvalue
+getdirectories
+directories
+appendelement
+directory
+prtrue
+nsimethodimp
+nsabbsdirectory
+deletedirectory
+nsiabdirectory
+directory
+nsresult
+rv
+nsensureargpointer
+directory
+minitialized
+nscomptr
+nsienumerator
+subdirectories
+rv
+getchildnodes
+getteraddrefs
+subdirectories
+nsensuresuccess
+rv
+rv
+dirserver
+server
+nsnull
+nsvoidkey
+key
+directory
+server
+dirserver
+mservers
+get
+key
+server
+nserrorfailure
+getdirectories
+getdirectories
+server
+mservers
+enumerate
+getdirectoriesgetdirectory
+getdirectories
+dirdeleteserverfromlist
+server
+nscomptr
+nsiabdirfactoryservice
+dirfactoryservice
+dogetservice
+nsabdirfactoryservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+pruint
+count
+rv
+getdirectories
+directories
+count
+count
+nsensuresuccess
+rv
+rv
+pruint
+count
+nscomptr
+nsiabdirectory
+getdirectories
+directories
+getelementat
+getteraddrefs
+nsvoidkey
+mservers
+remove
+rv
+msubdirectories
+removeelement
+notifyitemdeleted
+nscomptr
+nsirdfresource
+resource
+doqueryinterface
+rv
+uri
+resource
+getvalueconst
+uri
+nscomptr
+nsiabdirfactory
+dirfactory
+rv
+dirfactoryservice
+getdirfactory
+uri
+getteraddrefs
+dirfactory
+nsfailed
+rv
+rv
+dirfactory
+deletedirectory
+rv
+nsimethodimp
+nsabbsdirectory
+modifydirectory
+nsiabdirectory
+directory
+nsiabdirectoryproperties
+aproperties
+nsresult
+rv
+nsensureargpointer
+directory
+nsensureargpointer
+aproperties
+minitialized
+nscomptr
+nsienumerator
+subdirectories
+rv
+getchildnodes
+getteraddrefs
+subdirectories
+nsensuresuccess
+rv
+rv
+dirserver
+server
+nsnull
+nsvoidkey
+key
+directory
+server
+dirserver
+mservers
+get
+key
+server
+nserrorfailure
+getdirectories
+getdirectories
+server
+mservers
+enumerate
+getdirectoriesgetdirectory
+getdirectories
+nsautostring
+description
+nsxpidlcstring
+uri
+nsxpidlcstring
+authdn
+pruint
+maxhits
+palmsynctimestamp
+print
+palmcategoryid
+rv
+aproperties
+getdescription
+description
+nsensuresuccess
+rv
+rv
+nsconvertutftoucs
+oldvalue
+server
+description
+nscrt
+free
+server
+description
+nsconvertucstoutf
+utfstr
+description
+get
+server
+description
+tonewcstring
+utfstr
+rv
+aproperties
+geturi
+gettercopies
+uri
+nsensuresuccess
+rv
+rv
+nscrt
+free
+server
+uri
+server
+uri
+tonewcstring
+uri
+rv
+aproperties
+getmaxhits
+maxhits
+nsensuresuccess
+rv
+rv
+server
+maxhits
+maxhits
+rv
+aproperties
+getauthdn
+gettercopies
+authdn
+nsensuresuccess
+rv
+rv
+server
+authdn
+tonewcstring
+authdn
+rv
+aproperties
+getsynctimestamp
+palmsynctimestamp
+nsensuresuccess
+rv
+rv
+server
+palmsynctimestamp
+palmsynctimestamp
+rv
+aproperties
+getcategoryid
+palmcategoryid
+nsensuresuccess
+rv
+rv
+server
+palmcategoryid
+palmcategoryid
+dirsaveprefsforoneserver
+server
+oldvalue
+equals
+description
+nscomptr
+nsiabdirectory
+modifieddir
+getdirectories
+directories
+getelementat
+getteraddrefs
+modifieddir
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+rv
+nssucceeded
+rv
+absession
+notifyitempropertychanged
+modifieddir
+dirname
+oldvalue
+get
+description
+get
+nscomptr
+nsiprefservice
+prefservice
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+prefservice
+savepreffile
+nsnull
+nsimethodimp
+nsabbsdirectory
+hasdirectory
+nsiabdirectory
+dir
+prbool
+hasdir
+hasdir
+nserrornullpointer
+nsresult
+rv
+nserrorfailure
+dirserver
+dirserver
+nsnull
+nsvoidkey
+key
+dir
+dirserver
+dirserver
+mservers
+get
+key
+rv
+dircontainsserver
+dirserver
+hasdir
+rv nsresult
\ No newline at end of file
@@ -0,0 +1,359 @@
+nsabboolexprtoldapfilter
+nsabldapproperties
+nsxpidlstring
+nsabboolexprtoldapfilter
+translatecardproperty
+nsabboolexprtoldapfilter
+allownonconvertablecardproperty
+nsresult
+nsabboolexprtoldapfilter
+convert
+nsiabbooleanexpression
+expression
+nscstring
+filter
+flags
+nsresult
+rv
+nscstring
+rv
+filterexpression
+expression
+flags
+nsensuresuccess
+rv
+rv
+filter
+rv
+nsresult
+nsabboolexprtoldapfilter
+filterexpression
+nsiabbooleanexpression
+expression
+nscstring
+filter
+flags
+nsresult
+rv
+nsabbooleanoperationtype
+operation
+rv
+expression
+getoperation
+operation
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupportsarray
+childexpressions
+rv
+expression
+getexpressions
+getteraddrefs
+childexpressions
+nsensuresuccess
+rv
+rv
+pruint
+count
+rv
+childexpressions
+count
+count
+nsensuresuccess
+rv
+rv
+count
+nsok
+count
+nscomptr
+nsisupports
+item
+rv
+childexpressions
+getelementat
+getteraddrefs
+item
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabbooleanconditionstring
+childcondition
+doqueryinterface
+item
+rv
+nssucceeded
+rv
+nsxpidlcstring
+name
+rv
+childcondition
+getname
+gettercopies
+name
+nsensuresuccess
+rv
+rv
+name
+equals
+card
+nsiabcard
+nsok
+filter
+nsliteralcstring
+operation
+nsiabbooleanoperationtypes
+and
+filter
+nsliteralcstring
+rv
+filterexpressions
+childexpressions
+filter
+flags
+nsiabbooleanoperationtypes
+or
+filter
+nsliteralcstring
+rv
+filterexpressions
+childexpressions
+filter
+flags
+nsiabbooleanoperationtypes
+not
+count
+nserrorfailure
+filter
+nsliteralcstring
+rv
+filterexpressions
+childexpressions
+filter
+flags
+filter
+nsliteralcstring
+rv
+nsresult
+nsabboolexprtoldapfilter
+filterexpressions
+nsisupportsarray
+expressions
+nscstring
+filter
+flags
+nsresult
+rv
+pruint
+count
+rv
+expressions
+count
+count
+nsensuresuccess
+rv
+rv
+pruint
+count
+nscomptr
+nsisupports
+item
+rv
+expressions
+getelementat
+getteraddrefs
+item
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabbooleanconditionstring
+childcondition
+doqueryinterface
+item
+rv
+nssucceeded
+rv
+rv
+filtercondition
+childcondition
+filter
+flags
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabbooleanexpression
+childexpression
+doqueryinterface
+item
+rv
+nssucceeded
+rv
+rv
+filterexpression
+childexpression
+filter
+flags
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsabboolexprtoldapfilter
+filtercondition
+nsiabbooleanconditionstring
+condition
+nscstring
+filter
+flags
+nsresult
+rv
+nsabbooleanconditiontype
+conditiontype
+rv
+condition
+getcondition
+conditiontype
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+name
+rv
+condition
+getname
+gettercopies
+name
+nsensuresuccess
+rv
+rv
+ldapproperty
+name
+get
+flags
+translatecardproperty
+mozillaldappropertyrelation
+mozillaldappropertyrelator
+findldappropertyfrommozilla
+name
+get
+ldapproperty
+ldapproperty
+flags
+allownonconvertablecardproperty
+nsok
+nsxpidlstring
+value
+rv
+condition
+getvalue
+gettercopies
+value
+nsensuresuccess
+rv
+rv
+nsconvertucstoutf
+vutf
+value
+conditiontype
+nsiabbooleanconditiontypes
+doesnotexist
+filter
+nsliteralcstring
+nsdependentcstring
+ldapproperty
+nsliteralcstring
+nsiabbooleanconditiontypes
+exists
+filter
+nsliteralcstring
+nsdependentcstring
+ldapproperty
+nsliteralcstring
+nsiabbooleanconditiontypes
+contains
+filter
+nsliteralcstring
+nsdependentcstring
+ldapproperty
+nsliteralcstring
+vutf
+nsliteralcstring
+nsiabbooleanconditiontypes
+doesnotcontain
+filter
+nsliteralcstring
+nsdependentcstring
+ldapproperty
+nsliteralcstring
+vutf
+nsliteralcstring
+nsiabbooleanconditiontypes
+is
+filter
+nsliteralcstring
+nsdependentcstring
+ldapproperty
+nsliteralcstring
+vutf
+nsliteralcstring
+nsiabbooleanconditiontypes
+isnot
+filter
+nsliteralcstring
+nsdependentcstring
+ldapproperty
+nsliteralcstring
+vutf
+nsliteralcstring
+nsiabbooleanconditiontypes
+beginswith
+filter
+nsliteralcstring
+nsdependentcstring
+ldapproperty
+nsliteralcstring
+vutf
+nsliteralcstring
+nsiabbooleanconditiontypes
+endswith
+filter
+nsliteralcstring
+nsdependentcstring
+ldapproperty
+nsliteralcstring
+vutf
+nsliteralcstring
+nsiabbooleanconditiontypes
+lessthan
+filter
+nsliteralcstring
+nsdependentcstring
+ldapproperty
+nsliteralcstring
+vutf
+nsliteralcstring
+nsiabbooleanconditiontypes
+greaterthan
+filter
+nsliteralcstring
+nsdependentcstring
+ldapproperty
+nsliteralcstring
+vutf
+nsliteralcstring
+nsiabbooleanconditiontypes
+soundslike
+filter
+nsliteralcstring
+nsdependentcstring
+ldapproperty
+nsliteralcstring
+vutf
+nsliteralcstring
+nsiabbooleanconditiontypes
+regexp
+rv nsresult
\ No newline at end of file
@@ -0,0 +1,135 @@
+nsicomponentmanager
+nsiservicemanager
+nsiioservice
+nsnetcid
+nsmemory
+nsstring
+nscrt
+plstr
+nsabdirfactoryservice
+nsiabdirfactory
+nsimplisupports
+nsabdirfactoryservice
+nsiabdirfactoryservice
+nsabdirfactoryservice
+nsabdirfactoryservice
+nsabdirfactoryservice
+nsabdirfactoryservice
+nsimethodimp
+nsabdirfactoryservice
+getdirfactory
+auri
+nsiabdirfactory
+adirfactory
+nsresult
+rv
+nsprecondition
+auri
+nsnull
+ptr
+auri
+nserrornullpointer
+nsprecondition
+adirfactory
+nsnull
+ptr
+adirfactory
+nserrornullpointer
+nscomptr
+nsiioservice
+nsservice
+dogetservice
+nsioservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscautostring
+scheme
+rv
+nsservice
+extractscheme
+nsdependentcstring
+auri
+scheme
+nsensuresuccess
+rv
+rv
+kabdirfactorycontractidprefix
+nsabdirectoryfactorycontractidprefix
+print
+pos
+scheme
+length
+print
+len
+pos
+kabdirfactorycontractidprefix
+buf
+contractid
+buf
+len
+print
+buf
+contractid
+nsstaticcast
+nsmemory
+alloc
+len
+contractid
+nsnull
+nserroroutofmemory
+plstrcpy
+contractid
+kabdirfactorycontractidprefix
+plstrncpy
+contractid
+kabdirfactorycontractidprefix
+auri
+pos
+contractid
+len
+nscid
+cid
+rv
+nscomponentmanager
+contractidtoclassid
+contractid
+cid
+nsensuresuccess
+rv
+rv
+contractid
+buf
+nscrt
+free
+contractid
+nscomptr
+nsifactory
+factory
+rv
+nscomponentmanager
+findfactory
+cid
+getteraddrefs
+factory
+nsassertion
+nssucceeded
+rv
+factory
+registered
+but
+couldn
+load
+nsensuresuccess
+rv
+rv
+rv
+factory
+createinstance
+nsnull
+nsgetiid
+nsiabdirfactory
+nsreinterpretcast
+adirfactory
+rv nsresult
\ No newline at end of file
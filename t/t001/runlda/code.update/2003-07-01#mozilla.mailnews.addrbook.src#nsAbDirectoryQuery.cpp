@@ -0,0 +1,1074 @@
+nsabdirectoryquery
+nsabdirectoryqueryproxy
+nsabutils
+nsabbooleanexpression
+nsirdfresource
+nsxpidlstring
+nsreadableutils
+nsunicharutils
+nsimplthreadsafeisupports
+nsabdirectoryquerysimplebooleanexpression
+nsiabbooleanexpression
+nsabdirectoryquerysimplebooleanexpression
+nsabdirectoryquerysimplebooleanexpression
+moperation
+nsiabbooleanoperationtypes
+and
+nsabdirectoryquerysimplebooleanexpression
+nsabdirectoryquerysimplebooleanexpression
+nsimethodimp
+nsabdirectoryquerysimplebooleanexpression
+getoperation
+nsabbooleanoperationtype
+aoperation
+aoperation
+nserrornullpointer
+aoperation
+moperation
+nsok
+nsimethodimp
+nsabdirectoryquerysimplebooleanexpression
+setoperation
+nsabbooleanoperationtype
+aoperation
+aoperation
+nsiabbooleanoperationtypes
+and
+aoperation
+nsiabbooleanoperationtypes
+or
+nserrorfailure
+moperation
+aoperation
+nsok
+nsimethodimp
+nsabdirectoryquerysimplebooleanexpression
+getexpressions
+nsisupportsarray
+aexpressions
+aexpressions
+nserrornullpointer
+mexpressions
+nsnewisupportsarray
+getteraddrefs
+mexpressions
+nsifaddref
+aexpressions
+mexpressions
+nsok
+nsimethodimp
+nsabdirectoryquerysimplebooleanexpression
+setexpressions
+nsisupportsarray
+aexpressions
+aexpressions
+nserrornullpointer
+nsresult
+rv
+pruint
+count
+rv
+aexpressions
+count
+count
+nsensuresuccess
+rv
+rv
+pruint
+count
+nscomptr
+nsisupports
+item
+rv
+aexpressions
+getelementat
+getteraddrefs
+item
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabbooleanconditionstring
+queryexpression
+doqueryinterface
+item
+rv
+nsensuresuccess
+rv
+rv
+mexpressions
+aexpressions
+nsok
+nsimethodimp
+nsabdirectoryquerysimplebooleanexpression
+asetexpressions
+pruint
+aexpressionssize
+nsisupports
+aexpressionsarray
+nserrornotimplemented
+nsimethodimp
+nsabdirectoryquerysimplebooleanexpression
+agetexpressions
+pruint
+aexpressionssize
+nsisupports
+aexpressionsarray
+nserrornotimplemented
+nsimplthreadsafeisupports
+nsabdirectoryqueryarguments
+nsiabdirectoryqueryarguments
+nsabdirectoryqueryarguments
+nsabdirectoryqueryarguments
+mquerysubdirectories
+prtrue
+nsabdirectoryqueryarguments
+nsabdirectoryqueryarguments
+nsimethodimp
+nsabdirectoryqueryarguments
+getexpression
+nsisupports
+aexpression
+aexpression
+nserrornullpointer
+nsifaddref
+aexpression
+mexpression
+nsok
+nsimethodimp
+nsabdirectoryqueryarguments
+setexpression
+nsisupports
+aexpression
+mexpression
+aexpression
+nsok
+nsimethodimp
+nsabdirectoryqueryarguments
+getquerysubdirectories
+prbool
+aquerysubdirectories
+nsensureargpointer
+aquerysubdirectories
+aquerysubdirectories
+mquerysubdirectories
+nsok
+nsimethodimp
+nsabdirectoryqueryarguments
+setquerysubdirectories
+prbool
+aquerysubdirectories
+mquerysubdirectories
+aquerysubdirectories
+nsok
+nsimethodimp
+nsabdirectoryqueryarguments
+setreturnproperties
+pruint
+returnpropertiessize
+returnpropertiesarray
+nsresult
+rv
+rv
+charptrarraytocstringarray
+convert
+mreturnproperties
+returnpropertiessize
+returnpropertiesarray
+rv
+nsimethodimp
+nsabdirectoryqueryarguments
+getreturnproperties
+pruint
+returnpropertiessize
+returnpropertiesarray
+nsresult
+rv
+rv
+cstringarraytocharptrarray
+convert
+mreturnproperties
+returnpropertiessize
+returnpropertiesarray
+rv
+nsimplthreadsafeisupports
+nsabdirectoryquerypropertyvalue
+nsiabdirectoryquerypropertyvalue
+nsabdirectoryquerypropertyvalue
+nsabdirectoryquerypropertyvalue
+nsabdirectoryquerypropertyvalue
+nsabdirectoryquerypropertyvalue
+aname
+prunichar
+avalue
+mname
+aname
+mvalue
+avalue
+nsabdirectoryquerypropertyvalue
+nsabdirectoryquerypropertyvalue
+aname
+nsisupports
+avalueisupports
+mname
+aname
+mvalueisupports
+avalueisupports
+nsabdirectoryquerypropertyvalue
+nsabdirectoryquerypropertyvalue
+nsimethodimp
+nsabdirectoryquerypropertyvalue
+getname
+aname
+value
+mname
+get
+value
+aname
+aname
+tonewcstring
+mname
+nsok
+nsimethodimp
+nsabdirectoryquerypropertyvalue
+getvalue
+prunichar
+avalue
+avalue
+tonewunicode
+mvalue
+avalue
+nserroroutofmemory
+nsok
+nsimethodimp
+nsabdirectoryquerypropertyvalue
+getvalueisupports
+nsisupports
+avalueisupports
+mvalueisupports
+nserrornullpointer
+nsifaddref
+avalueisupports
+mvalueisupports
+nsok
+nsimplthreadsafeisupports
+nsabdirectoryqueryresult
+nsiabdirectoryqueryresult
+nsabdirectoryqueryresult
+nsabdirectoryqueryresult
+mcontextid
+mtype
+queryresulterror
+nsabdirectoryqueryresult
+nsabdirectoryqueryresult
+print
+acontextid
+nsiabdirectoryqueryarguments
+acontextargs
+print
+atype
+nscomptr
+nsisupportsarray
+aresult
+mcontextid
+acontextid
+mcontextargs
+acontextargs
+mtype
+atype
+mresult
+aresult
+nsabdirectoryqueryresult
+nsabdirectoryqueryresult
+nsimethodimp
+nsabdirectoryqueryresult
+getcontextid
+print
+acontextid
+acontextid
+mcontextid
+nsok
+nsimethodimp
+nsabdirectoryqueryresult
+getcontextargs
+nsiabdirectoryqueryarguments
+acontextargs
+mcontextargs
+nserrornullpointer
+nsifaddref
+acontextargs
+mcontextargs
+nsok
+nsimethodimp
+nsabdirectoryqueryresult
+gettype
+print
+atype
+atype
+mtype
+nsok
+nsimethodimp
+nsabdirectoryqueryresult
+getresult
+nsisupportsarray
+aresult
+mresult
+nserrornullpointer
+nsifaddref
+aresult
+mresult
+nsok
+nsimethodimp
+nsabdirectoryqueryresult
+agetresult
+pruint
+aresultsize
+nsisupports
+aresultarray
+nserrornotimplemented
+nsimplisupports
+nsabdirectoryquery
+nsiabdirectoryquery
+nsabdirectoryquery
+nsabdirectoryquery
+nsiabdirectory
+adirectory
+mdirectory
+adirectory
+nsabdirectoryquery
+nsabdirectoryquery
+nsimethodimp
+nsabdirectoryquery
+doquery
+nsiabdirectoryqueryarguments
+arguments
+nsiabdirectoryqueryresultlistener
+listener
+print
+resultlimit
+print
+timeout
+print
+retval
+nsresult
+rv
+rv
+query
+mdirectory
+arguments
+listener
+resultlimit
+nsfailed
+rv
+rv
+queryerror
+arguments
+listener
+rv
+queryfinished
+arguments
+listener
+retval
+rv
+nsimethodimp
+nsabdirectoryquery
+stopquery
+print
+contextid
+nsok
+nsresult
+nsabdirectoryquery
+query
+nsiabdirectory
+directory
+nsiabdirectoryqueryarguments
+arguments
+nsiabdirectoryqueryresultlistener
+listener
+print
+resultlimit
+nsresult
+rv
+nsok
+resultlimit
+rv
+rv
+querycards
+directory
+arguments
+listener
+resultlimit
+nsensuresuccess
+rv
+rv
+prbool
+dosubdirectories
+arguments
+getquerysubdirectories
+dosubdirectories
+dosubdirectories
+resultlimit
+rv
+querychildren
+directory
+arguments
+listener
+resultlimit
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsabdirectoryquery
+querychildren
+nsiabdirectory
+directory
+nsiabdirectoryqueryarguments
+arguments
+nsiabdirectoryqueryresultlistener
+listener
+print
+resultlimit
+nsresult
+rv
+nsok
+nscomptr
+nsienumerator
+subdirectories
+rv
+directory
+getchildnodes
+getteraddrefs
+subdirectories
+nsensuresuccess
+rv
+rv
+rv
+subdirectories
+first
+nsfailed
+rv
+nsok
+nscomptr
+nsisupports
+item
+rv
+subdirectories
+currentitem
+getteraddrefs
+item
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabdirectory
+subdirectory
+doqueryinterface
+item
+rv
+nsensuresuccess
+rv
+rv
+rv
+query
+subdirectory
+arguments
+listener
+resultlimit
+nsensuresuccess
+rv
+rv
+rv
+subdirectories
+next
+rv
+nsok
+nsok
+nsresult
+nsabdirectoryquery
+querycards
+nsiabdirectory
+directory
+nsiabdirectoryqueryarguments
+arguments
+nsiabdirectoryqueryresultlistener
+listener
+print
+resultlimit
+nsresult
+rv
+nsok
+nscomptr
+nsienumerator
+cards
+rv
+directory
+getchildcards
+getteraddrefs
+cards
+nsfailed
+rv
+rv
+nserrornotimplemented
+nsensuresuccess
+rv
+rv
+nsok
+cards
+nsok
+rv
+cards
+first
+nsfailed
+rv
+nsok
+nscomptr
+nsisupports
+item
+rv
+cards
+currentitem
+getteraddrefs
+item
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabcard
+card
+doqueryinterface
+item
+rv
+nsensuresuccess
+rv
+rv
+rv
+matchcard
+card
+arguments
+listener
+resultlimit
+nsensuresuccess
+rv
+rv
+resultlimit
+nsok
+rv
+cards
+next
+rv
+nsok
+nsok
+nsresult
+nsabdirectoryquery
+matchcard
+nsiabcard
+card
+nsiabdirectoryqueryarguments
+arguments
+nsiabdirectoryqueryresultlistener
+listener
+print
+resultlimit
+nsresult
+rv
+nsok
+nscomptr
+nsisupports
+supportsexpression
+rv
+arguments
+getexpression
+getteraddrefs
+supportsexpression
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabbooleanexpression
+expression
+doqueryinterface
+supportsexpression
+rv
+nsensuresuccess
+rv
+rv
+prbool
+matchfound
+prfalse
+rv
+matchcardexpression
+card
+expression
+matchfound
+nsensuresuccess
+rv
+rv
+matchfound
+prtrue
+resultlimit
+rv
+querymatch
+card
+arguments
+listener
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsabdirectoryquery
+matchcardexpression
+nsiabcard
+card
+nsiabbooleanexpression
+expression
+prbool
+result
+nsresult
+rv
+nsok
+nsabbooleanoperationtype
+operation
+rv
+expression
+getoperation
+operation
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupportsarray
+childexpressions
+rv
+expression
+getexpressions
+getteraddrefs
+childexpressions
+nsensuresuccess
+rv
+rv
+pruint
+count
+rv
+childexpressions
+count
+count
+nsensuresuccess
+rv
+rv
+operation
+nsiabbooleanoperationtypes
+not
+count
+nserrorfailure
+prbool
+value
+result
+prfalse
+pruint
+count
+nscomptr
+nsisupports
+item
+rv
+childexpressions
+getelementat
+getteraddrefs
+item
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabbooleanconditionstring
+childcondition
+doqueryinterface
+item
+rv
+nssucceeded
+rv
+rv
+matchcardcondition
+card
+childcondition
+value
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabbooleanexpression
+childexpression
+doqueryinterface
+item
+rv
+nssucceeded
+rv
+rv
+matchcardexpression
+card
+childexpression
+value
+nsensuresuccess
+rv
+rv
+nserrorfailure
+operation
+nsiabbooleanoperationtypes
+or
+value
+prtrue
+operation
+nsiabbooleanoperationtypes
+and
+value
+prfalse
+operation
+nsiabbooleanoperationtypes
+not
+value
+value
+prtrue
+prfalse
+prtrue
+result
+value
+nsok
+nsresult
+nsabdirectoryquery
+matchcardcondition
+nsiabcard
+card
+nsiabbooleanconditionstring
+condition
+prbool
+matchfound
+nsresult
+rv
+nsok
+nsabbooleanconditiontype
+conditiontype
+rv
+condition
+getcondition
+conditiontype
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+name
+rv
+condition
+getname
+gettercopies
+name
+nsensuresuccess
+rv
+rv
+name
+equals
+card
+nsiabcard
+conditiontype
+nsiabbooleanconditiontypes
+exists
+matchfound
+prtrue
+matchfound
+prfalse
+nsok
+nsxpidlstring
+value
+rv
+card
+getcardvalue
+name
+get
+gettercopies
+value
+nsensuresuccess
+rv
+rv
+nsstring
+value
+value
+get
+value
+get
+value
+length
+conditiontype
+nsiabbooleanconditiontypes
+doesnotexist
+matchfound
+prtrue
+matchfound
+prfalse
+nsok
+nsxpidlstring
+matchvalue
+rv
+condition
+getvalue
+gettercopies
+matchvalue
+nsensuresuccess
+rv
+rv
+conditiontype
+nsiabbooleanconditiontypes
+exists
+matchfound
+prtrue
+nsiabbooleanconditiontypes
+contains
+matchfound
+findinreadable
+matchvalue
+value
+nscaseinsensitivestringcomparator
+nsiabbooleanconditiontypes
+doesnotcontain
+matchfound
+findinreadable
+matchvalue
+value
+nscaseinsensitivestringcomparator
+nsiabbooleanconditiontypes
+is
+matchfound
+value
+equals
+matchvalue
+nscaseinsensitivestringcomparator
+nsiabbooleanconditiontypes
+isnot
+matchfound
+value
+equals
+matchvalue
+nscaseinsensitivestringcomparator
+nsiabbooleanconditiontypes
+beginswith
+value
+length
+matchvalue
+length
+matchfound
+prfalse
+matchfound
+matchvalue
+equals
+substring
+value
+matchvalue
+length
+nscaseinsensitivestringcomparator
+nsiabbooleanconditiontypes
+lessthan
+matchfound
+compare
+value
+matchvalue
+nscaseinsensitivestringcomparator
+nsiabbooleanconditiontypes
+greaterthan
+matchfound
+compare
+value
+matchvalue
+nscaseinsensitivestringcomparator
+nsiabbooleanconditiontypes
+endswith
+print
+vl
+value
+length
+print
+mvl
+matchvalue
+length
+mvl
+vl
+matchfound
+prfalse
+matchfound
+matchvalue
+equals
+substring
+value
+vl
+mvl
+mvl
+nscaseinsensitivestringcomparator
+nsiabbooleanconditiontypes
+soundslike
+nsiabbooleanconditiontypes
+regexp
+matchfound
+prfalse
+matchfound
+prfalse
+rv
+nsresult
+nsabdirectoryquery
+querymatch
+nsiabcard
+card
+nsiabdirectoryqueryarguments
+arguments
+nsiabdirectoryqueryresultlistener
+listener
+nsresult
+rv
+nscomptr
+nsisupportsarray
+propertyvalues
+charptrarrayguard
+properties
+rv
+arguments
+getreturnproperties
+properties
+getsizeaddr
+properties
+getarrayaddr
+nsensuresuccess
+rv
+rv
+nscautostring
+pruint
+properties
+getsize
+assign
+properties
+nsabdirectoryquerypropertyvalue
+propertyvalue
+equals
+card
+nsiabcard
+nscomptr
+nsisupports
+supports
+doqueryinterface
+card
+rv
+nsensuresuccess
+rv
+rv
+propertyvalue
+nsabdirectoryquerypropertyvalue
+get
+supports
+propertyvalue
+nserroroutofmemory
+nsxpidlstring
+value
+rv
+card
+getcardvalue
+get
+gettercopies
+value
+nsensuresuccess
+rv
+rv
+value
+get
+value
+length
+propertyvalue
+nsabdirectoryquerypropertyvalue
+get
+value
+get
+propertyvalue
+nserroroutofmemory
+propertyvalue
+nscomptr
+nsiabdirectoryquerypropertyvalue
+propertyvalue
+propertyvalue
+propertyvalue
+propertyvalues
+nsnewisupportsarray
+getteraddrefs
+propertyvalues
+nscomptr
+nsisupports
+supports
+doqueryinterface
+propertyvalue
+rv
+nsensuresuccess
+rv
+rv
+propertyvalues
+appendelement
+supports
+propertyvalues
+nsok
+nscomptr
+nsiabdirectoryqueryresult
+queryresult
+nsabdirectoryqueryresult
+queryresult
+nsabdirectoryqueryresult
+arguments
+nsiabdirectoryqueryresult
+queryresultmatch
+propertyvalues
+queryresult
+nserroroutofmemory
+queryresult
+queryresult
+rv
+listener
+onqueryitem
+queryresult
+rv
+nsresult
+nsabdirectoryquery
+queryfinished
+nsiabdirectoryqueryarguments
+arguments
+nsiabdirectoryqueryresultlistener
+listener
+nscomptr
+nsiabdirectoryqueryresult
+queryresult
+nsabdirectoryqueryresult
+queryresult
+nsabdirectoryqueryresult
+arguments
+nsiabdirectoryqueryresult
+queryresultcomplete
+queryresult
+nserroroutofmemory
+queryresult
+queryresult
+listener
+onqueryitem
+queryresult
+nsresult
+nsabdirectoryquery
+queryerror
+nsiabdirectoryqueryarguments
+arguments
+nsiabdirectoryqueryresultlistener
+listener
+nscomptr
+nsiabdirectoryqueryresult
+queryresult
+nsabdirectoryqueryresult
+queryresult
+nsabdirectoryqueryresult
+arguments
+nsiabdirectoryqueryresult
+queryresulterror
+queryresult
+nserroroutofmemory
+queryresult
+queryresult
+listener
+onqueryitem
+queryresult
\ No newline at end of file
@@ -0,0 +1,101 @@
+nsabdirectoryrdfresource
+nsiurl
+nsnetcid
+nsiservicemanager
+nscomptr
+nsxpidlstring
+nsstring
+nsabquerystringtoexpression
+nsabboolexprtoldapfilter
+nsabdirectoryrdfresource
+nsabdirectoryrdfresource
+nsrdfresource
+misvaliduri
+prfalse
+misqueryuri
+prfalse
+nsabdirectoryrdfresource
+nsabdirectoryrdfresource
+nsimplisupportsinherited
+nsabdirectoryrdfresource
+nsrdfresource
+nsimethodimp
+nsabdirectoryrdfresource
+init
+auri
+nsresult
+rv
+rv
+nsrdfresource
+init
+auri
+nsensuresuccess
+rv
+rv
+murinoquery
+auri
+nscomptr
+nsiuri
+uri
+docreateinstance
+nsstandardurlcontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+uri
+setspec
+nsdependentcstring
+auri
+nsensuresuccess
+rv
+rv
+misvaliduri
+prtrue
+nscomptr
+nsiurl
+url
+doqueryinterface
+uri
+nsensuresuccess
+rv
+rv
+nscautostring
+querystring
+rv
+url
+getquery
+querystring
+nscautostring
+path
+rv
+url
+getpath
+path
+mpath
+path
+pruint
+querystringlength
+querystring
+get
+querystringlength
+querystring
+length
+pathlength
+path
+length
+querystringlength
+mpath
+truncate
+pathlength
+murinoquery
+truncate
+murinoquery
+length
+querystringlength
+mquerystring
+querystring
+misqueryuri
+prtrue
+rv
\ No newline at end of file
@@ -0,0 +1,841 @@
+nsabldapchangelogdata
+nsabldapchangelogquery
+nsldap
+nsiabcard
+nsiaddrbooksession
+nsabbasecid
+nsabutils
+nsabmdbcard
+nsabldapcard
+nsfilespec
+nsabldapproperties
+nsproxiedservice
+nsautolock
+nsiauthprompt
+nsistringbundle
+nsiwindowwatcher
+nsunicharutils
+updateop
+noop
+entryadd
+entrydelete
+entrymodify
+nsabldapprocesschangelogdata
+nsabldapprocesschangelogdata
+musechangelog
+prfalse
+mchangelogentriescount
+mentriesaddedquerycount
+mrootdseentry
+firstchangenumber
+mrootdseentry
+lastchangenumber
+nsabldapprocesschangelogdata
+nsabldapprocesschangelogdata
+nsimethodimp
+nsabldapprocesschangelogdata
+init
+nsiabldapreplicationquery
+query
+nsiwebprogresslistener
+progresslistener
+nsensureargpointer
+query
+nsresult
+rv
+nsok
+mchangelogquery
+doqueryinterface
+query
+rv
+nsfailed
+rv
+rv
+nsabldapprocessreplicationdata
+init
+query
+progresslistener
+nsresult
+nsabldapprocesschangelogdata
+onldapbind
+nsildapmessage
+amessage
+nsensureargpointer
+amessage
+minitialized
+nserrornotinitialized
+print
+errcode
+nsresult
+rv
+amessage
+geterrorcode
+errcode
+nsfailed
+rv
+done
+prfalse
+rv
+errcode
+nsildaperrors
+success
+done
+prfalse
+nserrorfailure
+mstate
+kanonymousbinding
+rv
+getauthdata
+nssucceeded
+rv
+rv
+mchangelogquery
+queryauthdn
+mauthuserid
+nssucceeded
+rv
+mstate
+ksearchingauthdn
+kauthenticatedbinding
+rv
+mchangelogquery
+queryrootdse
+nssucceeded
+rv
+mstate
+ksearchingrootdse
+nsfailed
+rv
+abort
+rv
+nsresult
+nsabldapprocesschangelogdata
+onldapsearchentry
+nsildapmessage
+amessage
+nsensureargpointer
+amessage
+minitialized
+nserrornotinitialized
+nsresult
+rv
+nsok
+mstate
+ksearchingauthdn
+nscautostring
+authdn
+rv
+amessage
+getdn
+authdn
+nssucceeded
+rv
+authdn
+isempty
+mauthdn
+authdn
+get
+ksearchingrootdse
+rv
+parserootdseentry
+amessage
+kfindingchanges
+rv
+parsechangelogentries
+amessage
+kreplicatingchanges
+kreplicatingall
+nsabldapprocessreplicationdata
+onldapsearchentry
+amessage
+nsfailed
+rv
+abort
+rv
+nsresult
+nsabldapprocesschangelogdata
+onldapsearchresult
+nsildapmessage
+amessage
+nsensureargpointer
+amessage
+minitialized
+nserrornotinitialized
+print
+errorcode
+nsresult
+rv
+amessage
+geterrorcode
+errorcode
+nssucceeded
+rv
+errorcode
+nsildaperrors
+success
+errorcode
+nsildaperrors
+sizelimitexceeded
+mstate
+ksearchingauthdn
+rv
+onsearchauthdndone
+ksearchingrootdse
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+rv
+nsfailed
+rv
+nsfilespec
+dbpath
+rv
+absession
+getuserprofiledirectory
+dbpath
+nsfailed
+rv
+dbpath
+mdirserverinfo
+replinfo
+filename
+dbpath
+exists
+dbpath
+getfilesize
+musechangelog
+prfalse
+dbpath
+musechangelog
+rv
+openabforreplicateddir
+prfalse
+rv
+openabforreplicateddir
+prtrue
+nsfailed
+rv
+rv
+rv
+onsearchrootdsedone
+kfindingchanges
+rv
+onfindingchangesdone
+nssucceeded
+rv
+rv
+kreplicatingall
+nsabldapprocessreplicationdata
+onldapsearchresult
+amessage
+rv
+nserrorfailure
+mstate
+kreplicatingchanges
+rv
+onreplicatingchangedone
+nsfailed
+rv
+abort
+rv
+nsresult
+nsabldapprocesschangelogdata
+getauthdata
+minitialized
+nserrornotinitialized
+nscomptr
+nsiwindowwatcher
+wwatch
+dogetservice
+nswindowwatchercontractid
+wwatch
+nserrorfailure
+nscomptr
+nsiauthprompt
+dialog
+nsresult
+rv
+wwatch
+getnewauthprompter
+getteraddrefs
+dialog
+nsfailed
+rv
+rv
+dialog
+nserrorfailure
+nscomptr
+nsildapurl
+url
+rv
+mquery
+getreplicationurl
+getteraddrefs
+url
+nsfailed
+rv
+rv
+nscautostring
+serveruri
+rv
+url
+getspec
+serveruri
+nsfailed
+rv
+rv
+nscomptr
+nsistringbundleservice
+bundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsistringbundle
+bundle
+rv
+bundleservice
+createbundle
+messenger
+locale
+addressbook
+addressbook
+properties
+getteraddrefs
+bundle
+nsfailed
+rv
+rv
+nsxpidlstring
+title
+rv
+bundle
+getstringfromname
+nsliteralstring
+authdlgtitle
+get
+gettercopies
+title
+nsfailed
+rv
+rv
+nsxpidlstring
+desc
+rv
+bundle
+getstringfromname
+nsliteralstring
+authdlgdesc
+get
+gettercopies
+desc
+nsfailed
+rv
+rv
+nsxpidlstring
+username
+nsxpidlstring
+password
+prbool
+btnresult
+prfalse
+rv
+dialog
+promptusernameandpassword
+title
+desc
+nsconvertutftoucs
+serveruri
+get
+nsiauthprompt
+savepasswordpermanently
+gettercopies
+username
+gettercopies
+password
+btnresult
+nssucceeded
+rv
+btnresult
+mauthuserid
+assign
+nsconvertucstoutf
+username
+mauthpswd
+assign
+nsconvertucstoutf
+password
+mdirserverinfo
+enableauth
+prtrue
+mdirserverinfo
+savepassword
+prtrue
+rv
+nserrorfailure
+rv
+nsresult
+nsabldapprocesschangelogdata
+onsearchauthdndone
+minitialized
+nserrornotinitialized
+nscomptr
+nsildapurl
+url
+nsresult
+rv
+mquery
+getreplicationurl
+getteraddrefs
+url
+nssucceeded
+rv
+rv
+mquery
+connecttoldapserver
+url
+mauthdn
+nssucceeded
+rv
+mstate
+kauthenticatedbinding
+prfreeif
+mdirserverinfo
+authdn
+mdirserverinfo
+authdn
+tonewcstring
+mauthdn
+rv
+nsresult
+nsabldapprocesschangelogdata
+parserootdseentry
+nsildapmessage
+amessage
+nsensureargpointer
+amessage
+minitialized
+nserrornotinitialized
+charptrarrayguard
+attrs
+nsresult
+rv
+amessage
+getattributes
+attrs
+getsizeaddr
+attrs
+getarrayaddr
+nsfailed
+rv
+rv
+print
+attrs
+getsize
+prunicharptrarrayguard
+vals
+rv
+amessage
+getvalues
+attrs
+getarray
+vals
+getsizeaddr
+vals
+getarrayaddr
+nsfailed
+rv
+vals
+getsize
+plstrcasecmp
+attrs
+changelog
+mrootdseentry
+changelogdn
+assign
+nsconvertucstoutf
+vals
+plstrcasecmp
+attrs
+firstchangenumber
+mrootdseentry
+firstchangenumber
+atol
+nslossyconvertucstoascii
+vals
+get
+plstrcasecmp
+attrs
+lastchangenumber
+mrootdseentry
+lastchangenumber
+atol
+nslossyconvertucstoascii
+vals
+get
+plstrcasecmp
+attrs
+dataversion
+mrootdseentry
+dataversion
+nsconvertucstoutf
+vals
+get
+mrootdseentry
+lastchangenumber
+mdirserverinfo
+replinfo
+lastchangenumber
+mrootdseentry
+lastchangenumber
+mdirserverinfo
+replinfo
+lastchangenumber
+mrootdseentry
+firstchangenumber
+musechangelog
+prtrue
+mrootdseentry
+lastchangenumber
+mdirserverinfo
+replinfo
+lastchangenumber
+mrootdseentry
+lastchangenumber
+done
+prtrue
+nsok
+rv
+nsresult
+nsabldapprocesschangelogdata
+onsearchrootdsedone
+minitialized
+nserrornotinitialized
+nsresult
+rv
+nsok
+musechangelog
+rv
+mchangelogquery
+querychangelog
+mrootdseentry
+changelogdn
+mrootdseentry
+lastchangenumber
+nsfailed
+rv
+rv
+mstate
+kfindingchanges
+mlistener
+mlistener
+onstatechange
+nsnull
+nsnull
+nsiwebprogresslistener
+statestart
+prfalse
+rv
+mquery
+queryallentries
+nsfailed
+rv
+rv
+mstate
+kreplicatingall
+mlistener
+mlistener
+onstatechange
+nsnull
+nsnull
+nsiwebprogresslistener
+statestart
+prtrue
+mdirserverinfo
+replinfo
+lastchangenumber
+mrootdseentry
+lastchangenumber
+prfreeif
+mdirserverinfo
+replinfo
+dataversion
+mdirserverinfo
+replinfo
+dataversion
+tonewcstring
+mrootdseentry
+dataversion
+rv
+nsresult
+nsabldapprocesschangelogdata
+parsechangelogentries
+nsildapmessage
+amessage
+nsensureargpointer
+amessage
+minitialized
+nserrornotinitialized
+charptrarrayguard
+attrs
+nsresult
+rv
+amessage
+getattributes
+attrs
+getsizeaddr
+attrs
+getarrayaddr
+nsfailed
+rv
+rv
+nsautostring
+targetdn
+updateop
+operation
+noop
+print
+attrs
+getsize
+prunicharptrarrayguard
+vals
+rv
+amessage
+getvalues
+attrs
+getarray
+vals
+getsizeaddr
+vals
+getarrayaddr
+nsfailed
+rv
+vals
+getsize
+plstrcasecmp
+attrs
+targetdn
+targetdn
+vals
+plstrcasecmp
+attrs
+changetype
+compare
+nsdependentstring
+vals
+nsliteralstring
+add
+nscaseinsensitivestringcomparator
+operation
+entryadd
+compare
+nsdependentstring
+vals
+nsliteralstring
+modify
+nscaseinsensitivestringcomparator
+operation
+entrymodify
+compare
+nsdependentstring
+vals
+nsliteralstring
+nscaseinsensitivestringcomparator
+operation
+entrydelete
+mchangelogentriescount
+mchangelogentriescount
+mlistener
+onprogresschange
+nsnull
+nsnull
+mchangelogentriescount
+mchangelogentriescount
+ifdef
+debugrdayal
+printf
+changelog
+replication
+updated
+entry
+optype
+nsconvertucstoutf
+targetdn
+get
+operation
+endif
+operation
+entryadd
+mentriestoadd
+indexof
+targetdn
+mentriestoadd
+appendstring
+targetdn
+entrydelete
+deletecard
+targetdn
+entrymodify
+rv
+deletecard
+targetdn
+nssucceeded
+rv
+mentriestoadd
+indexof
+targetdn
+mentriestoadd
+appendstring
+targetdn
+nswarning
+nsabldapprocesschangelogdata
+parsechangelogentries
+not
+an
+changelog
+entry
+nsok
+nsresult
+nsabldapprocesschangelogdata
+onfindingchangesdone
+minitialized
+nserrornotinitialized
+ifdef
+debugrdayal
+printf
+changelog
+replication
+finding
+changes
+done
+endif
+nsresult
+rv
+nsok
+mentriesaddedquerycount
+mentriestoadd
+count
+mentriesaddedquerycount
+mreplicationdb
+mdbopen
+rv
+mreplicationdb
+close
+prfalse
+nsassertion
+nssucceeded
+rv
+replication
+db
+close
+no
+commit
+on
+success
+failed
+mdbopen
+prfalse
+mbackupreplicationfile
+rv
+mbackupreplicationfile
+remove
+prfalse
+nsassertion
+nssucceeded
+rv
+replication
+backupfile
+remove
+on
+success
+failed
+done
+prtrue
+nsok
+mentriesaddedquerycount
+rv
+mchangelogquery
+querychangedentries
+nsconvertucstoutf
+mentriestoadd
+mentriesaddedquerycount
+nsfailed
+rv
+rv
+mlistener
+nssucceeded
+rv
+mlistener
+onstatechange
+nsnull
+nsnull
+nsiwebprogresslistener
+statestart
+prtrue
+mstate
+kreplicatingchanges
+rv
+nsresult
+nsabldapprocesschangelogdata
+onreplicatingchangedone
+minitialized
+nserrornotinitialized
+nsresult
+rv
+nsok
+mentriesaddedquerycount
+mreplicationdb
+mdbopen
+rv
+mreplicationdb
+close
+prtrue
+nsassertion
+nssucceeded
+rv
+replication
+db
+close
+commit
+on
+success
+failed
+mdbopen
+prfalse
+mbackupreplicationfile
+rv
+mbackupreplicationfile
+remove
+prfalse
+nsassertion
+nssucceeded
+rv
+replication
+backupfile
+remove
+on
+success
+failed
+done
+prtrue
+nsok
+mentriesaddedquerycount
+mentriestoadd
+count
+mentriesaddedquerycount
+mentriestoadd
+removestringat
+mentriesaddedquerycount
+mentriesaddedquerycount
+rv
+mchangelogquery
+querychangedentries
+nsconvertucstoutf
+mentriestoadd
+mentriesaddedquerycount
+rv
\ No newline at end of file
@@ -0,0 +1,222 @@
+nscomptr
+nsabldapchangelogquery
+nsabldapreplicationservice
+nsabldapchangelogdata
+nsabldapproperties
+nsautolock
+nsabutils
+prprf
+nsdirprefs
+nsabbasecid
+nsprintfcstring
+nsimplisupportsinherited
+nsabldapchangelogquery
+nsabldapreplicationquery
+nsiabldapchangelogquery
+nsabldapchangelogquery
+nsabldapchangelogquery
+nsabldapchangelogquery
+nsabldapchangelogquery
+define
+useauthdlg
+nsimethodimp
+nsabldapchangelogquery
+init
+nsacstring
+aprefname
+nsiwebprogresslistener
+aprogresslistener
+aprefname
+isempty
+nserrorunexpected
+mdirprefname
+aprefname
+nsresult
+rv
+initldapdata
+nsfailed
+rv
+rv
+mdataprocessor
+docreateinstance
+nsabldapprocesschangelogdatacontractid
+rv
+nsfailed
+rv
+rv
+minitialized
+prtrue
+mdataprocessor
+init
+aprogresslistener
+nsimethodimp
+nsabldapchangelogquery
+doreplicationquery
+minitialized
+nserrornotinitialized
+ifdef
+useauthdlg
+connecttoldapserver
+murl
+nsliteralcstring
+mdataprocessor
+populateauthdata
+connecttoldapserver
+murl
+mauthdn
+endif
+nsimethodimp
+nsabldapchangelogquery
+queryauthdn
+nsacstring
+avalueusedtofinddn
+minitialized
+nserrornotinitialized
+nsresult
+rv
+nsok
+charptrarrayguard
+attributes
+attributes
+getsizeaddr
+attributes
+getarrayaddr
+nsstaticcast
+nsmemory
+alloc
+attributes
+getsizeaddr
+attributes
+getarray
+tonewcstring
+nsdependentcstring
+dirgetfirstattributestring
+mdirserver
+cn
+attributes
+getarray
+nsnull
+nscautostring
+filter
+dirgetfirstattributestring
+mdirserver
+auth
+filter
+filter
+avalueusedtofinddn
+nscautostring
+dn
+rv
+murl
+getdn
+dn
+nsfailed
+rv
+rv
+moperation
+searchext
+dn
+nsildapurl
+scopesubtree
+filter
+attributes
+getsize
+attributes
+getarray
+nsimethodimp
+nsabldapchangelogquery
+queryrootdse
+minitialized
+nserrornotinitialized
+moperation
+searchext
+nsliteralcstring
+nsildapurl
+scopebase
+nsliteralcstring
+objectclass
+mozillaldappropertyrelator
+rootdseattribcount
+mozillaldappropertyrelator
+changelogrootdseattribs
+nsimethodimp
+nsabldapchangelogquery
+querychangelog
+nsacstring
+achangelogdn
+print
+alastchangeno
+minitialized
+nserrornotinitialized
+achangelogdn
+isempty
+nserrorunexpected
+nscautostring
+filter
+nsliteralcstring
+changenumber
+filter
+appendint
+mdirserver
+replinfo
+lastchangenumber
+moperation
+searchext
+achangelogdn
+nsildapurl
+scopeonelevel
+filter
+mozillaldappropertyrelator
+changelogentryattribcount
+mozillaldappropertyrelator
+changelogentryattribs
+nsimethodimp
+nsabldapchangelogquery
+querychangedentries
+nsacstring
+achangedentrydn
+minitialized
+nserrornotinitialized
+achangedentrydn
+isempty
+nserrorunexpected
+nscautostring
+urlfilter
+nsresult
+rv
+murl
+getfilter
+urlfilter
+nsfailed
+rv
+rv
+print
+scope
+rv
+murl
+getscope
+scope
+nsfailed
+rv
+rv
+charptrarrayguard
+attributes
+rv
+murl
+getattributes
+attributes
+getsizeaddr
+attributes
+getarrayaddr
+nsfailed
+rv
+rv
+moperation
+searchext
+achangedentrydn
+scope
+urlfilter
+attributes
+getsize
+attributes
+getarray
\ No newline at end of file
@@ -0,0 +1,671 @@
+nsabldapdirectory
+nsabldapproperties
+nsabutils
+nsabquerystringtoexpression
+nsabbasecid
+nsiaddrbooksession
+nsirdfservice
+nsstring
+nsxpidlstring
+nsautolock
+nsnetcid
+nsiioservice
+nsipref
+nsxpcom
+nsisupportsprimitives
+nsiprefbranch
+nsabldapdirectory
+nsabldapdirectory
+nsabdirectoryrdfresource
+nsabldapdirectoryquery
+minitialized
+prfalse
+minitializedconnection
+prfalse
+mperformingquery
+prfalse
+mcontext
+mlock
+nsabldapdirectory
+nsabldapdirectory
+mlock
+prdestroylock
+mlock
+nsimplisupportsinherited
+nsabldapdirectory
+nsabdirectoryrdfresource
+nsiabdirectory
+nsiabdirectoryquery
+nsiabdirectorysearch
+nsresult
+nsabldapdirectory
+initiate
+misqueryuri
+nserrorfailure
+minitialized
+nsok
+nsresult
+rv
+mlock
+prnewlock
+mlock
+nserroroutofmemory
+rv
+nsabquerystringtoexpression
+convert
+mquerystring
+get
+getteraddrefs
+mexpression
+nsensuresuccess
+rv
+rv
+rv
+initiateconnection
+minitialized
+prtrue
+rv
+nsresult
+nsabldapdirectory
+initiateconnection
+minitializedconnection
+nsok
+nsresult
+rv
+murl
+docreateinstance
+nsldapurlcontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nsensuresuccess
+rv
+rv
+nscautostring
+prefname
+prefname
+nsdependentcstring
+murinoquery
+get
+kldapdirectoryrootlen
+nsliteralcstring
+uri
+nsxpidlcstring
+uri
+rv
+prefs
+copycharpref
+prefname
+get
+gettercopies
+uri
+nsfailed
+rv
+nscautostring
+templdapurl
+murinoquery
+templdapurl
+replacesubstring
+moz
+abldapdirectory
+ldap
+rv
+murl
+setspec
+templdapurl
+rv
+murl
+setspec
+uri
+nsensuresuccess
+rv
+rv
+rv
+prefs
+getcharpref
+promiseflatcstring
+substring
+murinoquery
+kldapdirectoryrootlen
+murinoquery
+length
+kldapdirectoryrootlen
+nsliteralcstring
+auth
+dn
+get
+gettercopies
+mlogin
+nsfailed
+rv
+mlogin
+truncate
+mconnection
+docreateinstance
+nsldapconnectioncontractid
+rv
+nsensuresuccess
+rv
+rv
+minitializedconnection
+prtrue
+rv
+nsimethodimp
+nsabldapdirectory
+getoperations
+print
+aoperations
+aoperations
+nsiabdirectory
+opsearch
+nsok
+nsimethodimp
+nsabldapdirectory
+getchildnodes
+nsienumerator
+result
+nscomptr
+nsisupportsarray
+array
+nsnewisupportsarray
+getteraddrefs
+array
+array
+nserroroutofmemory
+array
+enumerate
+result
+nsimethodimp
+nsabldapdirectory
+getchildcards
+nsienumerator
+result
+nsresult
+rv
+prbool
+offline
+nscomptr
+nsiioservice
+ioservice
+dogetservice
+nsioservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+ioservice
+getoffline
+offline
+nsensuresuccess
+rv
+rv
+misqueryuri
+offline
+nscomptr
+nsirdfservice
+rdfservice
+dogetservice
+rdf
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nsensuresuccess
+rv
+rv
+nscautostring
+prefname
+prefname
+nsdependentcstring
+murinoquery
+get
+kldapdirectoryrootlen
+nsliteralcstring
+filename
+nsxpidlcstring
+filename
+rv
+prefs
+copycharpref
+prefname
+get
+gettercopies
+filename
+nsensuresuccess
+rv
+rv
+filename
+isempty
+nsok
+nscautostring
+localdirectoryuri
+localdirectoryuri
+nsliteralcstring
+moz
+abmdbdirectory
+filename
+nsliteralcstring
+mquerystring
+nscomptr
+nsirdfresource
+resource
+rv
+rdfservice
+getresource
+localdirectoryuri
+getteraddrefs
+resource
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabdirectory
+directory
+doqueryinterface
+resource
+rv
+nsensuresuccess
+rv
+rv
+rv
+directory
+getchildcards
+result
+rv
+startsearch
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupportsarray
+array
+nsnewisupportsarray
+getteraddrefs
+array
+array
+nserroroutofmemory
+rv
+array
+enumerate
+result
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsabldapdirectory
+hascard
+nsiabcard
+card
+prbool
+hascard
+nsresult
+rv
+rv
+initiate
+nsensuresuccess
+rv
+rv
+nsvoidkey
+key
+nsstaticcast
+card
+nsautolock
+lock
+mlock
+hascard
+mcache
+exists
+key
+hascard
+mperformingquery
+nserrornotavailable
+nsok
+nsresult
+nsabldapdirectory
+getldapconnection
+nsildapconnection
+connection
+nsresult
+rv
+rv
+initiateconnection
+nsensuresuccess
+rv
+rv
+nsifaddref
+connection
+mconnection
+rv
+nsresult
+nsabldapdirectory
+getldapurl
+nsildapurl
+url
+nsresult
+rv
+rv
+initiateconnection
+nsensuresuccess
+rv
+rv
+nsifaddref
+url
+murl
+rv
+nsresult
+nsabldapdirectory
+createcard
+nsildapurl
+uri
+dn
+nsiabcard
+result
+nsresult
+rv
+nscomptr
+nsiabcard
+card
+docreateinstance
+nsabldapcardcontractid
+rv
+nsensuresuccess
+rv
+rv
+nsifaddref
+result
+card
+nsok
+nsimethodimp
+nsabldapdirectory
+startsearch
+nsresult
+rv
+misqueryuri
+mquerystring
+isempty
+nsok
+rv
+initiate
+nsensuresuccess
+rv
+rv
+rv
+stopsearch
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabdirectoryqueryarguments
+arguments
+docreateinstance
+nsabdirectoryqueryargumentscontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+arguments
+setexpression
+mexpression
+nsensuresuccess
+rv
+rv
+nscstringarray
+properties
+properties
+appendcstring
+nscautostring
+card
+nsiabcard
+charptrarrayguard
+returnproperties
+prfalse
+rv
+cstringarraytocharptrarray
+convert
+properties
+returnproperties
+getsizeaddr
+returnproperties
+getarrayaddr
+prfalse
+nsensuresuccess
+rv
+rv
+rv
+arguments
+setreturnproperties
+returnproperties
+getsize
+returnproperties
+getarray
+nsensuresuccess
+rv
+rv
+rv
+arguments
+setquerysubdirectories
+prtrue
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabdirectoryqueryresultlistener
+querylistener
+nsabdirsearchlistener
+querylistener
+nsabdirsearchlistener
+querylistener
+querylistener
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nsensuresuccess
+rv
+rv
+nscautostring
+prefname
+prefname
+nsdependentcstring
+murinoquery
+get
+kldapdirectoryrootlen
+nsliteralcstring
+maxhits
+print
+maxhits
+rv
+prefs
+getintpref
+prefname
+get
+maxhits
+nsfailed
+rv
+maxhits
+rv
+doquery
+arguments
+querylistener
+maxhits
+mcontext
+nsensuresuccess
+rv
+rv
+nsautolock
+lock
+mlock
+mperformingquery
+prtrue
+mcache
+reset
+rv
+nsimethodimp
+nsabldapdirectory
+stopsearch
+nsresult
+rv
+rv
+initiate
+nsensuresuccess
+rv
+rv
+nsautolock
+lockguard
+mlock
+mperformingquery
+nsok
+mperformingquery
+prfalse
+rv
+stopquery
+mcontext
+rv
+nsresult
+nsabldapdirectory
+onsearchfinished
+print
+result
+nsresult
+rv
+rv
+initiate
+nsensuresuccess
+rv
+rv
+nsautolock
+lock
+mlock
+mperformingquery
+prfalse
+nsok
+nsresult
+nsabldapdirectory
+onsearchfoundcard
+nsiabcard
+card
+nsresult
+rv
+rv
+initiate
+nsensuresuccess
+rv
+rv
+nsvoidkey
+key
+nsstaticcast
+card
+nsautolock
+lock
+mlock
+mcache
+put
+key
+card
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+rv
+nssucceeded
+rv
+absession
+notifydirectoryitemadded
+card
+nsok
+nsimethodimp
+nsabldapdirectory
+getsupportsmailinglists
+prbool
+asupportsmailingslists
+nsensureargpointer
+asupportsmailingslists
+asupportsmailingslists
+prfalse
+nsok
+nsimethodimp
+nsabldapdirectory
+getisremote
+prbool
+aisremote
+nsensureargpointer
+aisremote
+aisremote
+prtrue
+nsok
+nsimethodimp
+nsabldapdirectory
+getissecure
+prbool
+aissecure
+nsensureargpointer
+aissecure
+nsresult
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscautostring
+prefname
+prefname
+nsdependentcstring
+murinoquery
+get
+kldapdirectoryrootlen
+nsliteralcstring
+uri
+nsxpidlcstring
+uri
+rv
+prefbranch
+getcharpref
+prefname
+get
+gettercopies
+uri
+nsensuresuccess
+rv
+rv
+aissecure
+strncmp
+uri
+get
+ldaps
+nsok
+nsimethodimp
+nsabldapdirectory
+getsearchduringlocalautocomplete
+prbool
+asearchduringlocalautocomplete
+nsensureargpointer
+asearchduringlocalautocomplete
+asearchduringlocalautocomplete
+prfalse
+nsok nsresult
\ No newline at end of file
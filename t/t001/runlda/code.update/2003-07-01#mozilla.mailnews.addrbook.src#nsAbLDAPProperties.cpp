@@ -0,0 +1,328 @@
+nsabldapproperties
+nsabutils
+nscomptr
+nsstring
+nsreadableutils
+mozillaldappropertyrelation
+mozillaldappropertytable
+mozillapropertystring
+firstname
+givenname
+mozillapropertystring
+lastname
+sn
+mozillapropertystring
+lastname
+surname
+mozillapropertystring
+displayname
+cn
+mozillapropertystring
+displayname
+commonname
+mozillapropertystring
+displayname
+displayname
+mozillapropertystring
+nickname
+xmozillanickname
+mozillapropertystring
+primaryemail
+mail
+mozillapropertystring
+secondemail
+xmozillasecondemail
+mozillapropertystring
+workphone
+telephonenumber
+mozillapropertystring
+homephone
+homephone
+mozillapropertystring
+faxnumber
+fax
+mozillapropertystring
+faxnumber
+facsimiletelephonenumber
+mozillapropertystring
+pagernumber
+pager
+mozillapropertystring
+pagernumber
+pagerphone
+mozillapropertystring
+cellularnumber
+mobile
+mozillapropertystring
+cellularnumber
+cellphone
+mozillapropertystring
+cellularnumber
+carphone
+mozillapropertystring
+workaddress
+postofficebox
+mozillapropertystring
+workaddress
+streetaddress
+mozillapropertystring
+workcity
+mozillapropertystring
+workcity
+locality
+mozillapropertystring
+workstate
+st
+mozillapropertystring
+workstate
+region
+mozillapropertystring
+workzipcode
+postalcode
+mozillapropertystring
+workzipcode
+zip
+mozillapropertystring
+workcountry
+countryname
+mozillapropertystring
+jobtitle
+title
+mozillapropertystring
+department
+ou
+mozillapropertystring
+department
+orgunit
+mozillapropertystring
+department
+department
+mozillapropertystring
+department
+departmentnumber
+mozillapropertystring
+company
+mozillapropertystring
+company
+company
+mozillapropertystring
+workcountry
+countryname
+mozillapropertystring
+aimscreenname
+nscpaimscreenname
+mozillapropertystring
+webpage
+workurl
+mozillapropertystring
+webpage
+homeurl
+mozillapropertystring
+birthyear
+birthyear
+mozillapropertystring
+custom
+custom
+mozillapropertystring
+custom
+custom
+mozillapropertystring
+custom
+custom
+mozillapropertystring
+custom
+custom
+mozillapropertystring
+notes
+notes
+mozillapropertystring
+notes
+description
+mozillapropertyint
+prefermailformat
+xmozillausehtmlmail
+mozillapropertyint
+lastmodifieddate
+modifytimestamp
+mozillaldappropertyrelation
+mozillaldappropertyrelator
+table
+mozillaldappropertytable
+mozillaldappropertyrelator
+tablesize
+mozillaldappropertytable
+mozillaldappropertyrelation
+sldapchangelogrootdseattribs
+changelog
+firstchangenumber
+lastchangenumber
+dataversion
+sldapchangelogentryattribs
+targetdn
+changetype
+mozillaldappropertyrelator
+changelogrootdseattribs
+sldapchangelogrootdseattribs
+mozillaldappropertyrelator
+rootdseattribcount
+sldapchangelogrootdseattribs
+mozillaldappropertyrelator
+changelogentryattribs
+sldapchangelogentryattribs
+mozillaldappropertyrelator
+changelogentryattribcount
+sldapchangelogentryattribs
+prbool
+mozillaldappropertyrelator
+isinitialized
+prfalse
+nshashtable
+mozillaldappropertyrelator
+mmozillatoldap
+nshashtable
+mozillaldappropertyrelator
+mldaptomozilla
+mozillaldappropertyrelator
+initialize
+isinitialized
+tablesize
+nscstringkey
+keymozilla
+table
+mozillaproperty
+nscstringkey
+neverown
+nscstringkey
+keyldap
+table
+ldapproperty
+nscstringkey
+neverown
+mldaptomozilla
+put
+keyldap
+nsreinterpretcast
+nsconstcast
+mozillaldappropertyrelation
+table
+mmozillatoldap
+put
+keymozilla
+nsreinterpretcast
+nsconstcast
+mozillaldappropertyrelation
+table
+isinitialized
+prtrue
+nsresult
+mozillaldappropertyrelator
+getallsupportedldapattributes
+nscstring
+aresult
+tablesize
+nserrorunexpected
+tablesize
+aresult
+nsdependentcstring
+table
+ldapproperty
+nsliteralcstring
+aresult
+table
+ldapproperty
+nsok
+mozillaldappropertyrelation
+mozillaldappropertyrelator
+findmozillapropertyfromldap
+ldapproperty
+initialize
+nscautostring
+lowercasedprop
+ldapproperty
+tolowercase
+nsdependentcstring
+ldapproperty
+lowercasedprop
+nscstringkey
+key
+lowercasedprop
+nsreinterpretcast
+mozillaldappropertyrelation
+mldaptomozilla
+get
+key
+mozillaldappropertyrelation
+mozillaldappropertyrelator
+findldappropertyfrommozilla
+mozillaproperty
+initialize
+nscstringkey
+key
+mozillaproperty
+nsreinterpretcast
+mozillaldappropertyrelation
+mmozillatoldap
+get
+key
+nsresult
+mozillaldappropertyrelator
+createcardpropertyfromldapmessage
+nsildapmessage
+message
+nsiabcard
+card
+prbool
+hassetcardproperty
+nsresult
+rv
+nsok
+charptrarrayguard
+attrs
+rv
+message
+getattributes
+attrs
+getsizeaddr
+attrs
+getarrayaddr
+nsensuresuccess
+rv
+rv
+hassetcardproperty
+prfalse
+pruint
+attrs
+getsize
+mozillaldappropertyrelation
+property
+findmozillapropertyfromldap
+attrs
+property
+prunicharptrarrayguard
+vals
+rv
+message
+getvalues
+attrs
+getarray
+vals
+getsizeaddr
+vals
+getarrayaddr
+nsfailed
+rv
+vals
+getsize
+rv
+card
+setcardvalue
+property
+mozillaproperty
+vals
+nssucceeded
+rv
+hassetcardproperty
+prtrue
+rv
+nsok
+rv nsresult
\ No newline at end of file
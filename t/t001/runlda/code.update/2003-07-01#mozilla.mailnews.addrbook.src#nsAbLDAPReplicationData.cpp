@@ -0,0 +1,927 @@
+nsabldapreplicationdata
+nsldap
+nsiabcard
+nsiaddrbooksession
+nsabbasecid
+nsabutils
+nsabmdbcard
+nsabldapcard
+nsfilespec
+nsabldapproperties
+nsabldapreplicationquery
+nsproxiedservice
+nscpasswordmanager
+nsirdfservice
+nsirdfresource
+nsimplthreadsafeisupports
+nsabldapprocessreplicationdata
+nsiabldapprocessreplicationdata
+nsildapmessagelistener
+nsabldapprocessreplicationdata
+nsabldapprocessreplicationdata
+mstate
+kidle
+mprotocol
+mcount
+mdbopen
+prfalse
+minitialized
+prfalse
+mdirserverinfo
+nsnull
+nsabldapprocessreplicationdata
+nsabldapprocessreplicationdata
+mdbopen
+mreplicationdb
+mreplicationdb
+close
+prfalse
+nsimethodimp
+nsabldapprocessreplicationdata
+init
+nsiabldapreplicationquery
+query
+nsiwebprogresslistener
+progresslistener
+nsensureargpointer
+query
+mquery
+query
+nsresult
+rv
+mquery
+getreplicationserverinfo
+mdirserverinfo
+nsfailed
+rv
+mquery
+nsnull
+rv
+mdirserverinfo
+mquery
+nsnull
+nserrorfailure
+mlistener
+progresslistener
+minitialized
+prtrue
+rv
+nsimethodimp
+nsabldapprocessreplicationdata
+getreplicationstate
+print
+areplicationstate
+nsensureargpointer
+areplicationstate
+areplicationstate
+mstate
+nsok
+nsimethodimp
+nsabldapprocessreplicationdata
+getprotocolused
+print
+aprotocolused
+nsensureargpointer
+aprotocolused
+aprotocolused
+mprotocol
+nsok
+nsimethodimp
+nsabldapprocessreplicationdata
+onldapinit
+nsildapconnection
+aconn
+nsresult
+astatus
+minitialized
+nserrornotinitialized
+nsfailed
+astatus
+done
+prfalse
+nserrorfailure
+nscomptr
+nsildapmessagelistener
+listener
+nsresult
+rv
+nsgetproxyforobject
+nscurrenteventq
+nsgetiid
+nsildapmessagelistener
+nsstaticcast
+nsildapmessagelistener
+proxysync
+proxyalways
+getteraddrefs
+listener
+nsfailed
+rv
+done
+prfalse
+rv
+nscomptr
+nsildapoperation
+operation
+rv
+mquery
+getoperation
+getteraddrefs
+operation
+nsfailed
+rv
+done
+prfalse
+rv
+nscomptr
+nsildapconnection
+connection
+rv
+mquery
+getconnection
+getteraddrefs
+connection
+nsfailed
+rv
+done
+prfalse
+rv
+rv
+operation
+init
+connection
+listener
+nsnull
+nsfailed
+rv
+done
+prfalse
+rv
+rv
+operation
+simplebind
+mauthpswd
+mstate
+mauthpswd
+isempty
+kanonymousbinding
+kauthenticatedbinding
+nsfailed
+rv
+done
+prfalse
+rv
+nsimethodimp
+nsabldapprocessreplicationdata
+onldapmessage
+nsildapmessage
+amessage
+nsensureargpointer
+amessage
+minitialized
+nserrornotinitialized
+print
+messagetype
+nsresult
+rv
+amessage
+gettype
+messagetype
+nsfailed
+rv
+ifdef
+debugrdayal
+printf
+ldap
+replication
+onldapmessage
+couldnot
+gettype
+endif
+done
+prfalse
+rv
+messagetype
+nsildapmessage
+resbind
+rv
+onldapbind
+amessage
+nsildapmessage
+ressearchentry
+rv
+onldapsearchentry
+amessage
+nsildapmessage
+ressearchresult
+rv
+onldapsearchresult
+amessage
+rv
+nsok
+rv
+nsimethodimp
+nsabldapprocessreplicationdata
+abort
+minitialized
+nserrornotinitialized
+ifdef
+debugrdayal
+printf
+changelog
+replication
+abort
+called
+endif
+nscomptr
+nsildapoperation
+operation
+nsresult
+rv
+mquery
+getoperation
+getteraddrefs
+operation
+operation
+mstate
+kidle
+rv
+operation
+abandon
+nssucceeded
+rv
+mstate
+kidle
+mreplicationdb
+mdbopen
+mreplicationdb
+forceclosed
+mdbopen
+prfalse
+mreplicationfile
+rv
+mreplicationfile
+remove
+prfalse
+nssucceeded
+rv
+mbackupreplicationfile
+mdirserverinfo
+replinfo
+rv
+mbackupreplicationfile
+movetonative
+nsnull
+nsdependentcstring
+mdirserverinfo
+replinfo
+filename
+done
+prfalse
+rv
+nsimethodimp
+nsabldapprocessreplicationdata
+populateauthdata
+mauthdn
+assign
+mdirserverinfo
+authdn
+nsresult
+rv
+nsok
+nscomptr
+nsipasswordmanagerinternal
+passwordmgrint
+dogetservice
+nspasswordmanagercontractid
+rv
+nssucceeded
+rv
+passwordmgrint
+nscomptr
+nsildapurl
+url
+rv
+mquery
+getreplicationurl
+getteraddrefs
+url
+nsfailed
+rv
+rv
+nscautostring
+serveruri
+rv
+url
+getspec
+serveruri
+nsfailed
+rv
+rv
+nscautostring
+hostfound
+nsautostring
+usernamefound
+nsautostring
+passwordfound
+rv
+passwordmgrint
+findpasswordentry
+serveruri
+nsliteralstring
+nsliteralstring
+hostfound
+usernamefound
+passwordfound
+nsfailed
+rv
+rv
+passwordfound
+isempty
+mauthpswd
+assign
+nsconvertucstoutf
+passwordfound
+rv
+nsresult
+nsabldapprocessreplicationdata
+onldapbind
+nsildapmessage
+amessage
+nsensureargpointer
+amessage
+minitialized
+nserrornotinitialized
+print
+errcode
+nsresult
+rv
+amessage
+geterrorcode
+errcode
+nsfailed
+rv
+done
+prfalse
+rv
+errcode
+nsildaperrors
+success
+done
+prfalse
+nserrorfailure
+rv
+openabforreplicateddir
+prtrue
+nsfailed
+rv
+rv
+rv
+mquery
+queryallentries
+nsfailed
+rv
+done
+prfalse
+rv
+mstate
+kreplicatingall
+mlistener
+nssucceeded
+rv
+mlistener
+onstatechange
+nsnull
+nsnull
+nsiwebprogresslistener
+statestart
+prtrue
+rv
+nsresult
+nsabldapprocessreplicationdata
+onldapsearchentry
+nsildapmessage
+amessage
+nsensureargpointer
+amessage
+minitialized
+nserrornotinitialized
+mreplicationdb
+mdbopen
+nserrorfailure
+nsabldapcard
+card
+prbool
+hassetcardproperty
+prfalse
+nsresult
+rv
+mozillaldappropertyrelator
+createcardpropertyfromldapmessage
+amessage
+card
+hassetcardproperty
+nsfailed
+rv
+abort
+rv
+hassetcardproperty
+prfalse
+nswarning
+nsabldapprocessreplicationdata
+onldapsearchentry
+no
+card
+properties
+found
+set
+nsok
+ifdef
+debugrdayal
+nsxpidlstring
+firstname
+rv
+card
+getfirstname
+gettercopies
+firstname
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+lastname
+rv
+card
+getlastname
+gettercopies
+lastname
+nsensuresuccess
+rv
+rv
+nscautostring
+name
+name
+assignwithconversion
+firstname
+name
+append
+name
+appendwithconversion
+lastname
+printf
+ldapreplication
+got
+card
+name
+mcount
+name
+get
+endif
+nscomptr
+nsiabmdbcard
+dbcard
+dbcard
+docreateinstance
+nsabmdbcardcontractid
+rv
+nsfailed
+rv
+abort
+rv
+nscomptr
+nsiabcard
+newcard
+newcard
+doqueryinterface
+dbcard
+rv
+nsfailed
+rv
+abort
+rv
+rv
+newcard
+copy
+card
+nsfailed
+rv
+abort
+rv
+rv
+mreplicationdb
+createnewcardandaddtodb
+newcard
+prfalse
+nsfailed
+rv
+abort
+rv
+nscautostring
+authdn
+rv
+amessage
+getdn
+authdn
+nssucceeded
+rv
+authdn
+isempty
+dbcard
+setabdatabase
+mreplicationdb
+dbcard
+setstringattribute
+dn
+nsconvertutftoucs
+authdn
+get
+newcard
+doqueryinterface
+dbcard
+rv
+nsfailed
+rv
+abort
+rv
+rv
+mreplicationdb
+editcard
+newcard
+prfalse
+nsfailed
+rv
+abort
+rv
+mcount
+mcount
+mlistener
+onprogresschange
+nsnull
+nsnull
+mcount
+mcount
+rv
+nsresult
+nsabldapprocessreplicationdata
+onldapsearchresult
+nsildapmessage
+amessage
+ifdef
+debugrdayal
+printf
+ldap
+replication
+got
+results
+completion
+endif
+nsensureargpointer
+amessage
+minitialized
+nserrornotinitialized
+print
+errorcode
+nsresult
+rv
+amessage
+geterrorcode
+errorcode
+nssucceeded
+rv
+errorcode
+nsildaperrors
+success
+errorcode
+nsildaperrors
+sizelimitexceeded
+done
+prtrue
+mreplicationdb
+mdbopen
+rv
+mreplicationdb
+close
+prtrue
+nsassertion
+nssucceeded
+rv
+replication
+db
+close
+on
+success
+failed
+mdbopen
+prfalse
+mbackupreplicationfile
+rv
+mbackupreplicationfile
+remove
+prfalse
+nsassertion
+nssucceeded
+rv
+replication
+backupfile
+remove
+on
+success
+failed
+nsok
+mreplicationdb
+mdbopen
+rv
+mreplicationdb
+forceclosed
+nsassertion
+nssucceeded
+rv
+replication
+db
+forceclosed
+on
+failure
+failed
+mdbopen
+prfalse
+mreplicationfile
+rv
+mreplicationfile
+remove
+prfalse
+nsassertion
+nssucceeded
+rv
+replication
+file
+remove
+on
+failure
+failed
+nssucceeded
+rv
+mbackupreplicationfile
+mdirserverinfo
+replinfo
+rv
+mbackupreplicationfile
+movetonative
+nsnull
+nsdependentcstring
+mdirserverinfo
+replinfo
+filename
+nsassertion
+nssucceeded
+rv
+replication
+backup
+file
+move
+back
+on
+failure
+failed
+done
+prfalse
+nsok
+nsresult
+nsabldapprocessreplicationdata
+openabforreplicateddir
+prbool
+acreate
+minitialized
+nserrornotinitialized
+nsresult
+rv
+nsok
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+rv
+nsfailed
+rv
+done
+prfalse
+rv
+mdirserverinfo
+replinfo
+filename
+done
+prfalse
+nserrorfailure
+nsfilespec
+dbpath
+rv
+absession
+getuserprofiledirectory
+dbpath
+nsfailed
+rv
+done
+prfalse
+rv
+dbpath
+mdirserverinfo
+replinfo
+filename
+dbpath
+exists
+rv
+nsfilespectoifile
+dbpath
+getteraddrefs
+mreplicationfile
+nsfailed
+rv
+dbpath
+done
+prfalse
+rv
+nscomptr
+nsifile
+clone
+rv
+mreplicationfile
+clone
+getteraddrefs
+clone
+nsfailed
+rv
+dbpath
+done
+prfalse
+rv
+mbackupreplicationfile
+doqueryinterface
+clone
+rv
+nsfailed
+rv
+dbpath
+done
+prfalse
+rv
+rv
+mbackupreplicationfile
+createunique
+nsifile
+normalfiletype
+nsfailed
+rv
+dbpath
+done
+prfalse
+rv
+nsautostring
+backupfileleafname
+rv
+mbackupreplicationfile
+getleafname
+backupfileleafname
+nsfailed
+rv
+dbpath
+done
+prfalse
+rv
+rv
+mbackupreplicationfile
+remove
+prfalse
+nsfailed
+rv
+dbpath
+done
+prfalse
+rv
+acreate
+mbackupreplicationfile
+setnativeleafname
+nsdependentcstring
+mdirserverinfo
+replinfo
+filename
+rv
+mbackupreplicationfile
+moveto
+nsnull
+backupfileleafname
+nssucceeded
+rv
+mbackupreplicationfile
+setleafname
+backupfileleafname
+mbackupreplicationfile
+setnativeleafname
+nsdependentcstring
+mdirserverinfo
+replinfo
+filename
+nscomptr
+nsifile
+parent
+rv
+mbackupreplicationfile
+getparent
+getteraddrefs
+parent
+nssucceeded
+rv
+rv
+mbackupreplicationfile
+copyto
+parent
+backupfileleafname
+nssucceeded
+rv
+mbackupreplicationfile
+setleafname
+backupfileleafname
+nsfailed
+rv
+dbpath
+done
+prfalse
+rv
+nscomptr
+nsiaddrdatabase
+addrdbfactory
+dogetservice
+nsaddrdatabasecontractid
+rv
+nsfailed
+rv
+dbpath
+mbackupreplicationfile
+mbackupreplicationfile
+remove
+prfalse
+done
+prfalse
+rv
+rv
+addrdbfactory
+open
+dbpath
+acreate
+getteraddrefs
+mreplicationdb
+prtrue
+dbpath
+nsfailed
+rv
+done
+prfalse
+mbackupreplicationfile
+mbackupreplicationfile
+remove
+prfalse
+rv
+mdbopen
+prtrue
+rv
+nsabldapprocessreplicationdata
+done
+prbool
+asuccess
+minitialized
+mstate
+kreplicationdone
+mquery
+done
+asuccess
+mlistener
+mlistener
+onstatechange
+nsnull
+nsnull
+nsiwebprogresslistener
+statestop
+asuccess
+mquery
+nsnull
+nsresult
+nsabldapprocessreplicationdata
+deletecard
+nsstring
+adn
+nscomptr
+nsiabcard
+cardtodelete
+mreplicationdb
+getcardfromattribute
+nsnull
+dn
+nsconvertucstoutf
+adn
+get
+prfalse
+getteraddrefs
+cardtodelete
+mreplicationdb
+deletecard
+cardtodelete
+prfalse
\ No newline at end of file
@@ -0,0 +1,121 @@
+nscomptr
+nsabldapreplicationservice
+nsabldapreplicationquery
+nsabbasecid
+nsiwebprogresslistener
+nsabldapchangelogquery
+nsiabldapreplicationdata
+nsimplisupports
+nsabldapreplicationservice
+nsiabldapreplicationservice
+nsabldapreplicationservice
+nsabldapreplicationservice
+mreplicating
+prfalse
+nsabldapreplicationservice
+nsabldapreplicationservice
+nsimethodimp
+nsabldapreplicationservice
+startreplication
+nsacstring
+aprefname
+nsiwebprogresslistener
+progresslistener
+aprefname
+isempty
+nserrorunexpected
+ifdef
+debugrdayal
+printf
+start
+replication
+called
+endif
+mreplicating
+nserrorfailure
+mprefname
+aprefname
+nsresult
+rv
+nserrornotimplemented
+decideprotocol
+nsiabldapprocessreplicationdata
+kdefaultdownloadall
+mquery
+docreateinstance
+nsabldapreplicationquerycontractid
+rv
+nsiabldapprocessreplicationdata
+kchangelogprotocol
+mquery
+docreateinstance
+nsabldapchangelogquerycontractid
+rv
+nssucceeded
+rv
+mquery
+rv
+mquery
+init
+aprefname
+progresslistener
+nssucceeded
+rv
+rv
+mquery
+doreplicationquery
+nssucceeded
+rv
+mreplicating
+prtrue
+rv
+progresslistener
+nsfailed
+rv
+progresslistener
+onstatechange
+nsnull
+nsnull
+nsiwebprogresslistener
+statestop
+prfalse
+rv
+nsimethodimp
+nsabldapreplicationservice
+cancelreplication
+nsacstring
+aprefname
+aprefname
+isempty
+nserrorunexpected
+nsresult
+rv
+nserrorfailure
+aprefname
+mprefname
+mquery
+mreplicating
+rv
+mquery
+cancelquery
+nssucceeded
+rv
+done
+prfalse
+rv
+nsimethodimp
+nsabldapreplicationservice
+done
+prbool
+asuccess
+mreplicating
+prfalse
+mquery
+mquery
+nsnull
+nsok
+print
+nsabldapreplicationservice
+decideprotocol
+nsiabldapprocessreplicationdata
+kchangelogprotocol
\ No newline at end of file
@@ -0,0 +1,607 @@
+nsabmdbcardproperty
+nsirdfservice
+nsiservicemanager
+nsrdfcid
+nsxpidlstring
+nsreadableutils
+nsabbasecid
+rdf
+nscomptr
+nsaddrdatabase
+nsiaddrbooksession
+nsipref
+nsiaddressbook
+nsabmdbcardproperty
+nsabmdbcardproperty
+mkey
+mdbtableid
+mdbrowid
+nsabmdbcardproperty
+nsabmdbcardproperty
+mcarddatabase
+mcarddatabase
+nsnull
+nsimplisupportsinherited
+nsabmdbcardproperty
+nsabcardproperty
+nsiabmdbcard
+nsimethodimp
+nsabmdbcardproperty
+getdbtableid
+pruint
+adbtableid
+adbtableid
+mdbtableid
+nsok
+nsimethodimp
+nsabmdbcardproperty
+setdbtableid
+pruint
+adbtableid
+mdbtableid
+adbtableid
+nsok
+nsimethodimp
+nsabmdbcardproperty
+getdbrowid
+pruint
+adbrowid
+adbrowid
+mdbrowid
+nsok
+nsimethodimp
+nsabmdbcardproperty
+setdbrowid
+pruint
+adbrowid
+mdbrowid
+adbrowid
+nsok
+nsimethodimp
+nsabmdbcardproperty
+getkey
+pruint
+akey
+akey
+mkey
+nsok
+nsimethodimp
+nsabmdbcardproperty
+setkey
+pruint
+key
+mkey
+key
+nsok
+nsimethodimp
+nsabmdbcardproperty
+setabdatabase
+nsiaddrdatabase
+database
+mcarddatabase
+database
+nsok
+nsimethodimp
+nsabmdbcardproperty
+setstringattribute
+name
+prunichar
+value
+nsassertion
+mcarddatabase
+no
+db
+mcarddatabase
+nserrorunexpected
+mcarddatabase
+setcardvalue
+name
+value
+prtrue
+nsimethodimp
+nsabmdbcardproperty
+getstringattribute
+name
+prunichar
+value
+nsassertion
+mcarddatabase
+no
+db
+mcarddatabase
+nserrorunexpected
+mcarddatabase
+getcardvalue
+name
+value
+nsimethodimp
+nsabmdbcardproperty
+copycard
+nsiabmdbcard
+srccarddb
+nsresult
+rv
+nsok
+nscomptr
+nsiabcard
+srccard
+doqueryinterface
+srccarddb
+rv
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+str
+srccard
+getfirstname
+gettercopies
+str
+setfirstname
+str
+srccard
+getlastname
+gettercopies
+str
+setlastname
+str
+srccard
+getphoneticfirstname
+gettercopies
+str
+setphoneticfirstname
+str
+srccard
+getphoneticlastname
+gettercopies
+str
+setphoneticlastname
+str
+srccard
+getdisplayname
+gettercopies
+str
+setdisplayname
+str
+srccard
+getnickname
+gettercopies
+str
+setnickname
+str
+srccard
+getprimaryemail
+gettercopies
+str
+setprimaryemail
+str
+srccard
+getsecondemail
+gettercopies
+str
+setsecondemail
+str
+srccard
+getdefaultemail
+gettercopies
+str
+setdefaultemail
+str
+srccard
+getcardtype
+gettercopies
+str
+setcardtype
+str
+pruint
+format
+nsiabprefermailformat
+unknown
+srccard
+getprefermailformat
+format
+setprefermailformat
+format
+srccard
+getworkphone
+gettercopies
+str
+setworkphone
+str
+srccard
+gethomephone
+gettercopies
+str
+sethomephone
+str
+srccard
+getfaxnumber
+gettercopies
+str
+setfaxnumber
+str
+srccard
+getpagernumber
+gettercopies
+str
+setpagernumber
+str
+srccard
+getcellularnumber
+gettercopies
+str
+setcellularnumber
+str
+srccard
+getworkphonetype
+gettercopies
+str
+setworkphonetype
+str
+srccard
+gethomephonetype
+gettercopies
+str
+sethomephonetype
+str
+srccard
+getfaxnumbertype
+gettercopies
+str
+setfaxnumbertype
+str
+srccard
+getpagernumbertype
+gettercopies
+str
+setpagernumbertype
+str
+srccard
+getcellularnumbertype
+gettercopies
+str
+setcellularnumbertype
+str
+srccard
+gethomeaddress
+gettercopies
+str
+sethomeaddress
+str
+srccard
+gethomeaddress
+gettercopies
+str
+sethomeaddress
+str
+srccard
+gethomecity
+gettercopies
+str
+sethomecity
+str
+srccard
+gethomestate
+gettercopies
+str
+sethomestate
+str
+srccard
+gethomezipcode
+gettercopies
+str
+sethomezipcode
+str
+srccard
+gethomecountry
+gettercopies
+str
+sethomecountry
+str
+srccard
+getworkaddress
+gettercopies
+str
+setworkaddress
+str
+srccard
+getworkaddress
+gettercopies
+str
+setworkaddress
+str
+srccard
+getworkcity
+gettercopies
+str
+setworkcity
+str
+srccard
+getworkstate
+gettercopies
+str
+setworkstate
+str
+srccard
+getworkzipcode
+gettercopies
+str
+setworkzipcode
+str
+srccard
+getworkcountry
+gettercopies
+str
+setworkcountry
+str
+srccard
+getjobtitle
+gettercopies
+str
+setjobtitle
+str
+srccard
+getdepartment
+gettercopies
+str
+setdepartment
+str
+srccard
+getcompany
+gettercopies
+str
+setcompany
+str
+srccard
+getaimscreenname
+gettercopies
+str
+setaimscreenname
+str
+srccard
+getanniversaryyear
+gettercopies
+str
+setanniversaryyear
+str
+srccard
+getanniversarymonth
+gettercopies
+str
+setanniversarymonth
+str
+srccard
+getanniversaryday
+gettercopies
+str
+setanniversaryday
+str
+srccard
+getspousename
+gettercopies
+str
+setspousename
+str
+srccard
+getfamilyname
+gettercopies
+str
+setfamilyname
+str
+srccard
+getdefaultaddress
+gettercopies
+str
+setdefaultaddress
+str
+srccard
+getcategory
+gettercopies
+str
+setcategory
+str
+srccard
+getwebpage
+gettercopies
+str
+setwebpage
+str
+srccard
+getwebpage
+gettercopies
+str
+setwebpage
+str
+srccard
+getbirthyear
+gettercopies
+str
+setbirthyear
+str
+srccard
+getbirthmonth
+gettercopies
+str
+setbirthmonth
+str
+srccard
+getbirthday
+gettercopies
+str
+setbirthday
+str
+srccard
+getcustom
+gettercopies
+str
+setcustom
+str
+srccard
+getcustom
+gettercopies
+str
+setcustom
+str
+srccard
+getcustom
+gettercopies
+str
+setcustom
+str
+srccard
+getcustom
+gettercopies
+str
+setcustom
+str
+srccard
+getnotes
+gettercopies
+str
+setnotes
+str
+pruint
+tableid
+rowid
+srccarddb
+getdbtableid
+tableid
+setdbtableid
+tableid
+srccarddb
+getdbrowid
+rowid
+setdbrowid
+rowid
+nsok
+nsimethodimp
+nsabmdbcardproperty
+editcardtodatabase
+uri
+mcarddatabase
+uri
+getcarddatabase
+uri
+mcarddatabase
+mcarddatabase
+editcard
+prtrue
+mcarddatabase
+commit
+nsaddrdbcommittype
+klargecommit
+nsok
+nserrorfailure
+nsresult
+nsabmdbcardproperty
+getcarddatabase
+uri
+nsresult
+rv
+nsok
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+rv
+nssucceeded
+rv
+nsfilespec
+dbpath
+absession
+getuserprofiledirectory
+dbpath
+file
+nsnull
+file
+uri
+kmdbdirectoryrootlen
+dbpath
+file
+dbpath
+exists
+nscomptr
+nsiaddrdatabase
+addrdbfactory
+dogetservice
+nsaddrdatabasecontractid
+rv
+nssucceeded
+rv
+addrdbfactory
+rv
+addrdbfactory
+open
+dbpath
+prtrue
+getteraddrefs
+mcarddatabase
+prtrue
+rv
+nserrorfailure
+dbpath
+rv
+nsimethodimp
+nsabmdbcardproperty
+equals
+nsiabcard
+card
+prbool
+result
+nsresult
+rv
+card
+result
+prtrue
+nsok
+nscomptr
+nsiabmdbcard
+mdbcard
+doqueryinterface
+card
+rv
+nsfailed
+rv
+mdbcard
+result
+prfalse
+nsok
+pruint
+dbrowid
+rv
+mdbcard
+getdbrowid
+dbrowid
+nsensuresuccess
+rv
+rv
+pruint
+dbtableid
+rv
+mdbcard
+getdbtableid
+dbtableid
+nsensuresuccess
+rv
+rv
+pruint
+key
+rv
+mdbcard
+getkey
+key
+nsensuresuccess
+rv
+rv
+dbrowid
+mdbrowid
+dbtableid
+mdbtableid
+key
+mkey
+result
+prtrue
+result
+prfalse
+nsok nsresult
\ No newline at end of file
@@ -0,0 +1,715 @@
+nsabrdfdatasource
+nsabbasecid
+nsiabdirectory
+nsiaddrbooksession
+nsiabcard
+nsabutils
+rdf
+nsirdfservice
+nsrdfcid
+nsirdfnode
+nsenumeratorutils
+nsithread
+nsieventqueueservice
+nsiproxyobjectmanager
+nsstring
+nscomptr
+nsxpidlstring
+nsautolock
+nsabrdfnotification
+nsirdfdatasource
+datasource
+nsirdfresource
+subject
+nsirdfresource
+property
+nsirdfnode
+object
+nsabrdfnotification
+nsresult
+nsabrdfdatasource
+createnode
+prunichar
+str
+nsirdfnode
+node
+node
+nsnull
+nsresult
+rv
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+rdf
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfliteral
+value
+rv
+rdf
+getliteral
+str
+getteraddrefs
+value
+nssucceeded
+rv
+nsifaddref
+node
+value
+rv
+nsresult
+nsabrdfdatasource
+createblobnode
+pruint
+value
+pruint
+length
+nsirdfnode
+node
+nsirdfservice
+rdfservice
+nsensureargpointer
+node
+nsensureargpointer
+rdfservice
+node
+nsnull
+nscomptr
+nsirdfblob
+blob
+nsresult
+rv
+rdfservice
+getblobliteral
+value
+length
+getteraddrefs
+blob
+nsensuresuccess
+rv
+rv
+nsifaddref
+node
+blob
+rv
+prbool
+nsabrdfdatasource
+changeenumfunc
+nsisupports
+aelement
+adata
+nsabrdfnotification
+note
+nsabrdfnotification
+adata
+nsirdfobserver
+observer
+nsirdfobserver
+aelement
+observer
+onchange
+note
+datasource
+note
+subject
+note
+property
+nsnull
+note
+object
+prtrue
+prbool
+nsabrdfdatasource
+assertenumfunc
+nsisupports
+aelement
+adata
+nsabrdfnotification
+note
+nsabrdfnotification
+adata
+nsirdfobserver
+observer
+nsirdfobserver
+aelement
+observer
+onassert
+note
+datasource
+note
+subject
+note
+property
+note
+object
+prtrue
+prbool
+nsabrdfdatasource
+unassertenumfunc
+nsisupports
+aelement
+adata
+nsabrdfnotification
+note
+nsabrdfnotification
+adata
+nsirdfobserver
+observer
+nsirdfobserver
+aelement
+observer
+onunassert
+note
+datasource
+note
+subject
+note
+property
+note
+object
+prtrue
+nsresult
+nsabrdfdatasource
+createproxyobserver
+nsirdfobserver
+observer
+nsirdfobserver
+proxyobserver
+nsresult
+rv
+nscomptr
+nsieventqueueservice
+eventqsvc
+dogetservice
+nseventqueueservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsieventqueue
+uiqueue
+rv
+eventqsvc
+getspecialeventqueue
+nsieventqueueservice
+uithreadeventqueue
+getteraddrefs
+uiqueue
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiproxyobjectmanager
+proxymgr
+dogetservice
+nsxpcomproxycontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+proxymgr
+getproxyforobject
+uiqueue
+nsgetiid
+nsirdfobserver
+observer
+proxyasync
+proxyalways
+proxyobserver
+rv
+nsresult
+nsabrdfdatasource
+createproxyobservers
+nsresult
+rv
+nsok
+pruint
+nobservers
+mobservers
+count
+nobservers
+mproxyobservers
+rv
+nsnewisupportsarray
+getteraddrefs
+mproxyobservers
+nsensuresuccess
+rv
+rv
+pruint
+nproxyobservers
+mproxyobservers
+count
+nproxyobservers
+pruint
+nproxyobservers
+nobservers
+nscomptr
+nsisupports
+supports
+rv
+mobservers
+getelementat
+getteraddrefs
+supports
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfobserver
+observer
+doqueryinterface
+supports
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfobserver
+proxyobserver
+rv
+createproxyobserver
+observer
+getteraddrefs
+proxyobserver
+nsensuresuccess
+rv
+rv
+mproxyobservers
+appendelement
+proxyobserver
+rv
+nsresult
+nsabrdfdatasource
+notifyobservers
+nsirdfresource
+subject
+nsirdfresource
+property
+nsirdfnode
+object
+prbool
+assert
+prbool
+change
+nsassertion
+change
+assert
+can
+change
+assert
+at
+the
+same
+time
+mlock
+nserror
+error
+in
+autolock
+resource
+in
+nsabrdfdatasource
+notifyobservers
+nserroroutofmemory
+nsresult
+rv
+nsautolock
+lockguard
+mlock
+mobservers
+nsok
+nscomptr
+nsithread
+currentthread
+rv
+nsithread
+getcurrent
+getteraddrefs
+currentthread
+nsensuresuccess
+rv
+rv
+nscomptr
+nsithread
+uithread
+rv
+nsithread
+getmainthread
+getteraddrefs
+uithread
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupportsarray
+observers
+currentthread
+uithread
+observers
+mobservers
+rv
+createproxyobservers
+nsensuresuccess
+rv
+rv
+observers
+mproxyobservers
+nsabrdfnotification
+note
+subject
+property
+object
+change
+observers
+enumerateforwards
+changeenumfunc
+note
+assert
+observers
+enumerateforwards
+assertenumfunc
+note
+observers
+enumerateforwards
+unassertenumfunc
+note
+nsok
+nsresult
+nsabrdfdatasource
+notifypropertychanged
+nsirdfresource
+resource
+nsirdfresource
+propertyresource
+prunichar
+oldvalue
+prunichar
+newvalue
+nscomptr
+nsirdfnode
+newvaluenode
+createnode
+newvalue
+getteraddrefs
+newvaluenode
+notifyobservers
+resource
+propertyresource
+newvaluenode
+prfalse
+prtrue
+nsok
+nsabrdfdatasource
+nsabrdfdatasource
+mobservers
+nsnull
+mproxyobservers
+nsnull
+mlock
+nsnull
+mlock
+prnewlock
+nsabrdfdatasource
+nsabrdfdatasource
+mlock
+prdestroylock
+mlock
+nsimplthreadsafeisupports
+nsabrdfdatasource
+nsirdfdatasource
+nsimethodimp
+nsabrdfdatasource
+geturi
+uri
+nsnotreached
+should
+be
+implemented
+by
+subclass
+nserrorunexpected
+nsimethodimp
+nsabrdfdatasource
+getsource
+nsirdfresource
+property
+nsirdfnode
+target
+prbool
+tv
+nsirdfresource
+source
+nsrdfnovalue
+nsimethodimp
+nsabrdfdatasource
+gettarget
+nsirdfresource
+source
+nsirdfresource
+property
+prbool
+tv
+nsirdfnode
+target
+nsrdfnovalue
+nsimethodimp
+nsabrdfdatasource
+getsources
+nsirdfresource
+property
+nsirdfnode
+target
+prbool
+tv
+nsisimpleenumerator
+sources
+nsrdfnovalue
+nsimethodimp
+nsabrdfdatasource
+gettargets
+nsirdfresource
+source
+nsirdfresource
+property
+prbool
+tv
+nsisimpleenumerator
+targets
+nsrdfnovalue
+nsimethodimp
+nsabrdfdatasource
+assert
+nsirdfresource
+source
+nsirdfresource
+property
+nsirdfnode
+target
+prbool
+tv
+nsrdfnovalue
+nsimethodimp
+nsabrdfdatasource
+unassert
+nsirdfresource
+source
+nsirdfresource
+property
+nsirdfnode
+target
+nsrdfnovalue
+nsimethodimp
+nsabrdfdatasource
+change
+nsirdfresource
+asource
+nsirdfresource
+aproperty
+nsirdfnode
+aoldtarget
+nsirdfnode
+anewtarget
+nsrdfnovalue
+nsimethodimp
+nsabrdfdatasource
+move
+nsirdfresource
+aoldsource
+nsirdfresource
+anewsource
+nsirdfresource
+aproperty
+nsirdfnode
+atarget
+nsrdfnovalue
+nsimethodimp
+nsabrdfdatasource
+hasassertion
+nsirdfresource
+source
+nsirdfresource
+property
+nsirdfnode
+target
+prbool
+tv
+prbool
+hasassertion
+hasassertion
+prfalse
+nsok
+nsimethodimp
+nsabrdfdatasource
+addobserver
+nsirdfobserver
+observer
+mlock
+nserror
+error
+in
+autolock
+resource
+in
+nsabrdfdatasource
+addobservers
+nserroroutofmemory
+nsresult
+rv
+nsautolock
+lockguard
+mlock
+mobservers
+rv
+nsnewisupportsarray
+getteraddrefs
+mobservers
+nsensuresuccess
+rv
+rv
+print
+mobservers
+getindexof
+observer
+nsok
+mobservers
+appendelement
+observer
+mproxyobservers
+nscomptr
+nsirdfobserver
+proxyobserver
+rv
+createproxyobserver
+observer
+getteraddrefs
+proxyobserver
+nsensuresuccess
+rv
+rv
+mproxyobservers
+appendelement
+proxyobserver
+nsok
+nsimethodimp
+nsabrdfdatasource
+removeobserver
+nsirdfobserver
+observer
+mlock
+nserror
+error
+in
+autolock
+resource
+in
+nsabrdfdatasource
+removeobservers
+nserroroutofmemory
+nsautolock
+lockguard
+mlock
+mobservers
+nsok
+print
+mobservers
+getindexof
+observer
+mobservers
+removeelementat
+mproxyobservers
+mproxyobservers
+removeelementat
+nsok
+nsimethodimp
+nsabrdfdatasource
+hasarcin
+nsirdfnode
+anode
+nsirdfresource
+aarc
+prbool
+result
+result
+prfalse
+nsok
+nsimethodimp
+nsabrdfdatasource
+hasarcout
+nsirdfresource
+asource
+nsirdfresource
+aarc
+prbool
+result
+result
+prfalse
+nsok
+nsimethodimp
+nsabrdfdatasource
+arclabelsin
+nsirdfnode
+node
+nsisimpleenumerator
+labels
+nsrdfnovalue
+nsimethodimp
+nsabrdfdatasource
+arclabelsout
+nsirdfresource
+source
+nsisimpleenumerator
+labels
+nsrdfnovalue
+nsimethodimp
+nsabrdfdatasource
+getallresources
+nsisimpleenumerator
+acursor
+nsrdfnovalue
+nsimethodimp
+nsabrdfdatasource
+getallcmds
+nsirdfresource
+source
+nsisimpleenumerator
+commands
+nsrdfnovalue
+nsimethodimp
+nsabrdfdatasource
+iscommandenabled
+nsisupportsarray
+asources
+nsirdfresource
+acommand
+nsisupportsarray
+aarguments
+prbool
+aresult
+nsrdfnovalue
+nsimethodimp
+nsabrdfdatasource
+docommand
+nsisupportsarray
+asources
+nsirdfresource
+acommand
+nsisupportsarray
+aarguments
+nsrdfnovalue
+nsimethodimp
+nsabrdfdatasource
+beginupdatebatch
+nsok
+nsimethodimp
+nsabrdfdatasource
+endupdatebatch
+nsok nsresult
\ No newline at end of file
@@ -0,0 +1,124 @@
+nsabrdfresource
+nsirdfservice
+nsiservicemanager
+nsrdfcid
+nsabbasecid
+prmem
+nsaddrdatabase
+nsiaddrbooksession
+nsdefinecid
+krdfservicecid
+nsrdfservicecid
+nsabrdfresource
+nsabrdfresource
+mdatabase
+nsnull
+nsabrdfresource
+nsabrdfresource
+mdatabase
+mdatabase
+removelistener
+mdatabase
+close
+prtrue
+mdatabase
+nsnull
+nsimplisupportsinherited
+nsabrdfresource
+nsrdfresource
+nsiaddrdblistener
+nsimethodimp
+nsabrdfresource
+oncardattribchange
+pruint
+abcode
+nsiaddrdblistener
+instigator
+nsok
+nsimethodimp
+nsabrdfresource
+oncardentrychange
+pruint
+abcode
+nsiabcard
+card
+nsiaddrdblistener
+instigator
+nsok
+nsimethodimp
+nsabrdfresource
+onlistentrychange
+pruint
+abcode
+nsiabdirectory
+list
+nsiaddrdblistener
+instigator
+nsok
+nsimethodimp
+nsabrdfresource
+onannouncergoingaway
+nsiaddrdbannouncer
+instigator
+nsok
+nsresult
+nsabrdfresource
+getabdatabase
+nsresult
+rv
+nsok
+mdatabase
+muri
+nsfilespec
+dbpath
+nsnull
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+rv
+nssucceeded
+rv
+absession
+getuserprofiledirectory
+dbpath
+nsconvertutftoucs
+file
+muri
+kmdbdirectoryrootlen
+print
+pos
+file
+find
+pos
+file
+truncate
+pos
+dbpath
+file
+nscomptr
+nsiaddrdatabase
+addrdbfactory
+dogetservice
+nsaddrdatabasecontractid
+rv
+nssucceeded
+rv
+addrdbfactory
+rv
+addrdbfactory
+open
+dbpath
+prtrue
+getteraddrefs
+mdatabase
+prtrue
+mdatabase
+mdatabase
+addlistener
+dbpath
+nsok
+mdatabase
+nserrornullpointer
+nsok
\ No newline at end of file
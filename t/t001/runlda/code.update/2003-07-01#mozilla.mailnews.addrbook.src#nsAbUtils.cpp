@@ -0,0 +1,131 @@
+nsabutils
+nscrt
+nsstring
+nsreadableutils
+nsresult
+cstringarraytocharptrarray
+convert
+nscstringarray
+array
+pruint
+returnpropertiessize
+returnpropertiesarray
+prbool
+copyelements
+pruint
+size
+array
+count
+size
+nserrorfailure
+returnpropertiessize
+returnpropertiesarray
+nserrornullpointer
+returnpropertiessize
+size
+returnpropertiesarray
+nsstaticcast
+nsmemory
+alloc
+size
+returnpropertiesarray
+nserroroutofmemory
+pruint
+size
+copyelements
+prtrue
+returnpropertiesarray
+tonewcstring
+array
+returnpropertiesarray
+nsconstcast
+array
+get
+nsok
+nsresult
+charptrarraytocstringarray
+convert
+nscstringarray
+returnpropertiesarray
+pruint
+arraysize
+array
+array
+nserrornullpointer
+arraysize
+nsok
+returnpropertiesarray
+clear
+pruint
+arraysize
+returnpropertiesarray
+appendcstring
+nscautostring
+array
+nsok
+nsresult
+stringarraytoprunicharptrarray
+convert
+nsstringarray
+array
+pruint
+returnpropertiessize
+prunichar
+returnpropertiesarray
+prbool
+copyelements
+pruint
+size
+array
+count
+size
+nserrorfailure
+returnpropertiessize
+returnpropertiesarray
+nserrornullpointer
+returnpropertiessize
+size
+returnpropertiesarray
+nsstaticcast
+prunichar
+nsmemory
+alloc
+prunichar
+size
+returnpropertiesarray
+nserroroutofmemory
+pruint
+size
+copyelements
+prtrue
+returnpropertiesarray
+tonewunicode
+array
+returnpropertiesarray
+nsconstcast
+prunichar
+array
+get
+nsok
+nsresult
+prunicharptrarraytostringarray
+convert
+nsstringarray
+returnpropertiesarray
+pruint
+arraysize
+prunichar
+array
+array
+nserrornullpointer
+arraysize
+nsok
+returnpropertiesarray
+clear
+pruint
+arraysize
+returnpropertiesarray
+appendstring
+nsautostring
+array
+nsok nsresult
\ No newline at end of file
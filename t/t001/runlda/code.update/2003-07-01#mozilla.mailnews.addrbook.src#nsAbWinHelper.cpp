@@ -0,0 +1,1975 @@
+define
+initguid
+define
+usesiidimapiprop
+define
+usesiidimapicontainer
+define
+usesiidiabcontainer
+define
+usesiidimapitable
+define
+usesiididistlist
+nsabwinhelper
+nsabutils
+nsmapiaddressbook
+nswabaddressbook
+nscrt
+mapiguid
+prlog
+ifdef
+prlogging
+prlogmoduleinfo
+gabwinhelperlog
+prnewlogmodule
+nsabwinhelperlog
+endif
+define
+printf
+args
+prlog
+gabwinhelperlog
+prlogdebug
+args
+tinterface
+nsmapiinterfacewrapper
+tinterface
+minterface
+nsmapiinterfacewrapper
+minterface
+nsmapiinterfacewrapper
+minterface
+minterface
+release
+lpunknown
+nsreinterpretcast
+lpunknown
+minterface
+tinterface
+minterface
+tinterface
+minterface
+assignentryid
+lpentryid
+atarget
+lpentryid
+asource
+ulong
+abytecount
+atarget
+nsreinterpretcast
+lpbyte
+atarget
+atarget
+asource
+atarget
+nsreinterpretcast
+lpentryid
+byte
+abytecount
+memcpy
+atarget
+asource
+abytecount
+mozdeclctorcounter
+nsmapientry
+nsmapientry
+nsmapientry
+mbytecount
+mentryid
+mozcountctor
+nsmapientry
+nsmapientry
+nsmapientry
+ulong
+abytecount
+lpentryid
+aentryid
+mbytecount
+mentryid
+assign
+abytecount
+aentryid
+mozcountctor
+nsmapientry
+nsmapientry
+nsmapientry
+assign
+mozcountdtor
+nsmapientry
+nsmapientry
+assign
+ulong
+abytecount
+lpentryid
+aentryid
+assignentryid
+mentryid
+aentryid
+abytecount
+mbytecount
+abytecount
+unsignedtochar
+aunsigned
+aunsigned
+xa
+aunsigned
+aunsigned
+xa
+kbaseencoding
+abcdefghijklmnopqrstuvwxyzabcdefghijklmnopqrstuvwxyz
+karank
+karank
+krank
+kminusrank
+kdotrank
+unsignedtobase
+aunsigned
+ulong
+anbunsigned
+nscstring
+astring
+anbunsigned
+remain
+aunsigned
+astring
+append
+kbaseencoding
+aunsigned
+xf
+aunsigned
+anbunsigned
+remain
+aunsigned
+xf
+astring
+append
+kbaseencoding
+remain
+aunsigned
+xf
+aunsigned
+anbunsigned
+astring
+append
+kbaseencoding
+remain
+aunsigned
+astring
+append
+kbaseencoding
+aunsigned
+xf
+aunsigned
+astring
+append
+kbaseencoding
+remain
+astring
+append
+kbaseencoding
+remain
+chartounsigned
+achar
+achar
+achar
+nsstaticcast
+achar
+nsstaticcast
+achar
+xa
+basetobits
+abase
+abase
+abase
+nsstaticcast
+abase
+karank
+abase
+abase
+nsstaticcast
+abase
+karank
+abase
+abase
+nsstaticcast
+abase
+krank
+abase
+kminusrank
+abase
+kdotrank
+basetounsigned
+abase
+pruint
+anbbase
+aunsigned
+anbbase
+firstbits
+basetobits
+abase
+secondbits
+basetobits
+abase
+aunsigned
+firstbits
+aunsigned
+secondbits
+aunsigned
+anbbase
+thirdbits
+basetobits
+abase
+aunsigned
+secondbits
+aunsigned
+thirdbits
+aunsigned
+anbbase
+fourthbits
+basetobits
+abase
+aunsigned
+thirdbits
+aunsigned
+fourthbits
+aunsigned
+nsmapientry
+assign
+nscstring
+astring
+assign
+ulong
+bytecount
+astring
+length
+astring
+length
+bytecount
+astring
+length
+currentsource
+astring
+get
+currenttarget
+bytecount
+pruint
+mbytecount
+bytecount
+mentryid
+nsreinterpretcast
+lpentryid
+currenttarget
+astring
+length
+basetounsigned
+currentsource
+currenttarget
+basetounsigned
+currentsource
+currenttarget
+nsmapientry
+tostring
+nscstring
+astring
+astring
+truncate
+ulong
+currentsource
+nsreinterpretcast
+mentryid
+mbytecount
+unsignedtobase
+currentsource
+astring
+unsignedtobase
+currentsource
+astring
+nsmapientry
+dump
+printf
+mbytecount
+ulong
+mbytecount
+printf
+nsreinterpretcast
+mentryid
+printf
+mozdeclctorcounter
+nsmapientryarray
+nsmapientryarray
+nsmapientryarray
+mentries
+mnbentries
+mozcountctor
+nsmapientryarray
+nsmapientryarray
+nsmapientryarray
+mentries
+mentries
+mozcountdtor
+nsmapientryarray
+nsmapientryarray
+cleanup
+mentries
+mentries
+mentries
+mnbentries
+mozdeclctorcounter
+nsabwinhelper
+ulong
+nsabwinhelper
+mentrycounter
+prlock
+nsabwinhelper
+mmutex
+prnewlock
+nsabwinhelper
+nsabwinhelper
+maddressbook
+mlasterror
+sok
+mozcountctor
+nsabwinhelper
+nsabwinhelper
+nsabwinhelper
+mozcountdtor
+nsabwinhelper
+bool
+nsabwinhelper
+getfolders
+nsmapientryarray
+afolders
+afolders
+cleanup
+nsmapiinterfacewrapper
+lpabcont
+rootfolder
+nsmapiinterfacewrapper
+lpmapitable
+folders
+ulong
+objtype
+ulong
+rowcount
+srestriction
+restriction
+sproptagarray
+foldercolumns
+mlasterror
+maddressbook
+openentry
+objtype
+rootfolder
+hrfailed
+mlasterror
+printf
+cannot
+open
+root
+mlasterror
+false
+mlasterror
+rootfolder
+gethierarchytable
+folders
+hrfailed
+mlasterror
+printf
+cannot
+get
+hierarchy
+mlasterror
+false
+restriction
+rt
+resbitmask
+restriction
+res
+resbitmask
+ulproptag
+prcontainerflags
+restriction
+res
+resbitmask
+relbmr
+bmrnez
+restriction
+res
+resbitmask
+ulmask
+abmodifiable
+mlasterror
+folders
+restrict
+restriction
+hrfailed
+mlasterror
+printf
+cannot
+restrict
+table
+mlasterror
+foldercolumns
+cvalues
+foldercolumns
+aulproptag
+prentryid
+mlasterror
+folders
+setcolumns
+foldercolumns
+hrfailed
+mlasterror
+printf
+cannot
+set
+columns
+mlasterror
+false
+mlasterror
+folders
+getrowcount
+rowcount
+hrsucceeded
+mlasterror
+afolders
+mentries
+nsmapientry
+rowcount
+afolders
+mnbentries
+lpsrowset
+rowset
+rowcount
+mlasterror
+folders
+queryrows
+rowset
+hrsucceeded
+mlasterror
+rowcount
+rowset
+crows
+rowcount
+nsmapientry
+current
+afolders
+mentries
+afolders
+mnbentries
+spropvalue
+currentvalue
+rowset
+arow
+lpprops
+current
+assign
+currentvalue
+value
+bin
+cb
+nsreinterpretcast
+lpentryid
+currentvalue
+value
+bin
+lpb
+myfreeprows
+rowset
+printf
+cannot
+query
+rows
+mlasterror
+rowcount
+hrsucceeded
+mlasterror
+bool
+nsabwinhelper
+getcards
+nsmapientry
+aparent
+lpsrestriction
+arestriction
+nsmapientryarray
+acards
+acards
+cleanup
+getcontents
+aparent
+arestriction
+acards
+mentries
+acards
+mnbentries
+bool
+nsabwinhelper
+getnodes
+nsmapientry
+aparent
+nsmapientryarray
+anodes
+anodes
+cleanup
+getcontents
+aparent
+anodes
+mentries
+anodes
+mnbentries
+mapidistlist
+bool
+nsabwinhelper
+getcardscount
+nsmapientry
+aparent
+ulong
+anbcards
+anbcards
+getcontents
+aparent
+anbcards
+bool
+nsabwinhelper
+getpropertystring
+nsmapientry
+aobject
+ulong
+apropertytag
+nscstring
+aname
+aname
+truncate
+lpspropvalue
+values
+ulong
+valuecount
+getmapiproperties
+aobject
+apropertytag
+values
+valuecount
+false
+valuecount
+values
+proptype
+values
+ulproptag
+ptstring
+aname
+values
+value
+lpsza
+proptype
+values
+ulproptag
+ptunicode
+aname
+assignwithconversion
+values
+value
+lpszw
+freebuffer
+values
+true
+bool
+nsabwinhelper
+getpropertyustring
+nsmapientry
+aobject
+ulong
+apropertytag
+nsstring
+aname
+aname
+truncate
+lpspropvalue
+values
+ulong
+valuecount
+getmapiproperties
+aobject
+apropertytag
+values
+valuecount
+false
+valuecount
+values
+proptype
+values
+ulproptag
+ptunicode
+aname
+values
+value
+lpszw
+proptype
+values
+ulproptag
+ptstring
+aname
+assignwithconversion
+values
+value
+lpsza
+freebuffer
+values
+true
+bool
+nsabwinhelper
+getpropertiesustring
+nsmapientry
+aobject
+ulong
+apropertytags
+ulong
+anbproperties
+nsstringarray
+anames
+anames
+clear
+lpspropvalue
+values
+ulong
+valuecount
+getmapiproperties
+aobject
+apropertytags
+anbproperties
+values
+valuecount
+false
+valuecount
+anbproperties
+values
+ulong
+valuecount
+propid
+values
+ulproptag
+propid
+apropertytags
+proptype
+values
+ulproptag
+ptstring
+nsautostring
+temp
+temp
+assignwithconversion
+values
+value
+lpsza
+anames
+appendstring
+temp
+proptype
+values
+ulproptag
+ptunicode
+anames
+appendstring
+nsautostring
+values
+value
+lpszw
+anames
+appendstring
+nsautostring
+prunichar
+anames
+appendstring
+nsautostring
+prunichar
+freebuffer
+values
+true
+bool
+nsabwinhelper
+getpropertydate
+nsmapientry
+aobject
+ulong
+apropertytag
+word
+ayear
+word
+amonth
+word
+aday
+ayear
+amonth
+aday
+lpspropvalue
+values
+ulong
+valuecount
+getmapiproperties
+aobject
+apropertytag
+values
+valuecount
+false
+valuecount
+values
+proptype
+values
+ulproptag
+ptsystime
+systemtime
+readabletime
+filetimetosystemtime
+values
+value
+ft
+readabletime
+ayear
+readabletime
+wyear
+amonth
+readabletime
+wmonth
+aday
+readabletime
+wday
+freebuffer
+values
+true
+bool
+nsabwinhelper
+getpropertylong
+nsmapientry
+aobject
+ulong
+apropertytag
+ulong
+avalue
+avalue
+lpspropvalue
+values
+ulong
+valuecount
+getmapiproperties
+aobject
+apropertytag
+values
+valuecount
+false
+valuecount
+values
+proptype
+values
+ulproptag
+ptlong
+avalue
+values
+value
+ul
+freebuffer
+values
+true
+bool
+nsabwinhelper
+getpropertybin
+nsmapientry
+aobject
+ulong
+apropertytag
+nsmapientry
+avalue
+avalue
+assign
+lpspropvalue
+values
+ulong
+valuecount
+getmapiproperties
+aobject
+apropertytag
+values
+valuecount
+false
+valuecount
+values
+proptype
+values
+ulproptag
+ptbinary
+avalue
+assign
+values
+value
+bin
+cb
+nsreinterpretcast
+lpentryid
+values
+value
+bin
+lpb
+freebuffer
+values
+true
+bool
+nsabwinhelper
+testopenentry
+nsmapientry
+acontainer
+nsmapientry
+aentry
+nsmapiinterfacewrapper
+lpmapicontainer
+container
+nsmapiinterfacewrapper
+lpmapiprop
+subobject
+ulong
+objtype
+mlasterror
+maddressbook
+openentry
+acontainer
+mbytecount
+acontainer
+mentryid
+iidimapicontainer
+objtype
+container
+hrfailed
+mlasterror
+printf
+cannot
+open
+container
+mlasterror
+false
+mlasterror
+container
+openentry
+aentry
+mbytecount
+aentry
+mentryid
+objtype
+subobject
+hrsucceeded
+mlasterror
+bool
+nsabwinhelper
+deleteentry
+nsmapientry
+acontainer
+nsmapientry
+aentry
+nsmapiinterfacewrapper
+lpabcont
+container
+ulong
+objtype
+sbinary
+entry
+sbinaryarray
+entryarray
+mlasterror
+maddressbook
+openentry
+acontainer
+mbytecount
+acontainer
+mentryid
+iidiabcontainer
+mapimodify
+objtype
+container
+hrfailed
+mlasterror
+printf
+cannot
+open
+container
+mlasterror
+false
+entry
+cb
+aentry
+mbytecount
+entry
+lpb
+nsreinterpretcast
+lpbyte
+aentry
+mentryid
+entryarray
+cvalues
+entryarray
+lpbin
+entry
+mlasterror
+container
+deleteentries
+entryarray
+hrfailed
+mlasterror
+printf
+cannot
+entry
+mlasterror
+false
+true
+bool
+nsabwinhelper
+setpropertyustring
+nsmapientry
+aobject
+ulong
+apropertytag
+prunichar
+avalue
+spropvalue
+value
+nscautostring
+alternativevalue
+value
+ulproptag
+apropertytag
+proptype
+apropertytag
+ptunicode
+value
+value
+lpszw
+nsconstcast
+word
+avalue
+proptype
+apropertytag
+ptstring
+alternativevalue
+assignwithconversion
+avalue
+value
+value
+lpsza
+nsconstcast
+alternativevalue
+get
+printf
+property
+is
+apropertytag
+true
+setmapiproperties
+aobject
+value
+bool
+nsabwinhelper
+setpropertiesustring
+nsmapientry
+aobject
+ulong
+apropertiestag
+ulong
+anbproperties
+nsxpidlstring
+avalues
+lpspropvalue
+values
+spropvalue
+anbproperties
+ulong
+ulong
+currentvalue
+nscautostring
+alternativevalue
+bool
+retcode
+true
+anbproperties
+values
+currentvalue
+ulproptag
+apropertiestag
+proptype
+apropertiestag
+ptunicode
+values
+currentvalue
+value
+lpszw
+nsconstcast
+word
+avalues
+get
+proptype
+apropertiestag
+ptstring
+alternativevalue
+assignwithconversion
+avalues
+get
+values
+currentvalue
+value
+lpsza
+nscrt
+strdup
+alternativevalue
+get
+retcode
+setmapiproperties
+aobject
+currentvalue
+values
+currentvalue
+proptype
+apropertiestag
+ptstring
+nscrt
+free
+values
+value
+lpsza
+values
+retcode
+bool
+nsabwinhelper
+setpropertydate
+nsmapientry
+aobject
+ulong
+apropertytag
+word
+ayear
+word
+amonth
+word
+aday
+spropvalue
+value
+value
+ulproptag
+apropertytag
+proptype
+apropertytag
+ptsystime
+systemtime
+readabletime
+readabletime
+wyear
+ayear
+readabletime
+wmonth
+amonth
+readabletime
+wday
+aday
+readabletime
+wdayofweek
+readabletime
+whour
+readabletime
+wminute
+readabletime
+wsecond
+readabletime
+wmilliseconds
+systemtimetofiletime
+readabletime
+value
+value
+ft
+setmapiproperties
+aobject
+value
+true
+false
+bool
+nsabwinhelper
+createentry
+nsmapientry
+aparent
+nsmapientry
+anewentry
+nsmapiinterfacewrapper
+lpabcont
+container
+ulong
+objtype
+mlasterror
+maddressbook
+openentry
+aparent
+mbytecount
+aparent
+mentryid
+iidiabcontainer
+mapimodify
+objtype
+container
+hrfailed
+mlasterror
+printf
+cannot
+open
+container
+mlasterror
+false
+sproptagarray
+property
+lpspropvalue
+value
+ulong
+valuecount
+property
+cvalues
+property
+aulproptag
+prdefcreatemailuser
+mlasterror
+container
+getprops
+property
+valuecount
+value
+hrfailed
+mlasterror
+valuecount
+printf
+cannot
+obtain
+mlasterror
+false
+nsmapiinterfacewrapper
+lpmapiprop
+newentry
+mlasterror
+container
+createentry
+value
+value
+bin
+cb
+nsreinterpretcast
+lpentryid
+value
+value
+bin
+lpb
+createcheckduploose
+newentry
+freebuffer
+value
+hrfailed
+mlasterror
+printf
+cannot
+create
+entry
+mlasterror
+false
+spropvalue
+displayname
+lpspropproblemarray
+problems
+nsautostring
+tempname
+displayname
+ulproptag
+prdisplaynamew
+tempname
+assign
+nsliteralstring
+mailuser
+tempname
+appendint
+mentrycounter
+displayname
+value
+lpszw
+nsconstcast
+word
+tempname
+get
+mlasterror
+newentry
+setprops
+displayname
+problems
+hrfailed
+mlasterror
+printf
+cannot
+set
+temporary
+name
+mlasterror
+false
+mlasterror
+newentry
+savechanges
+keepopenreadonly
+hrfailed
+mlasterror
+printf
+cannot
+commit
+entry
+mlasterror
+false
+property
+aulproptag
+prentryid
+mlasterror
+newentry
+getprops
+property
+valuecount
+value
+hrfailed
+mlasterror
+valuecount
+printf
+cannot
+get
+entry
+id
+mlasterror
+false
+anewentry
+assign
+value
+value
+bin
+cb
+nsreinterpretcast
+lpentryid
+value
+value
+bin
+lpb
+freebuffer
+value
+true
+bool
+nsabwinhelper
+createdistlist
+nsmapientry
+aparent
+nsmapientry
+anewentry
+nsmapiinterfacewrapper
+lpabcont
+container
+ulong
+objtype
+mlasterror
+maddressbook
+openentry
+aparent
+mbytecount
+aparent
+mentryid
+iidiabcontainer
+mapimodify
+objtype
+container
+hrfailed
+mlasterror
+printf
+cannot
+open
+container
+mlasterror
+false
+sproptagarray
+property
+lpspropvalue
+value
+ulong
+valuecount
+property
+cvalues
+property
+aulproptag
+prdefcreatedl
+mlasterror
+container
+getprops
+property
+valuecount
+value
+hrfailed
+mlasterror
+valuecount
+printf
+cannot
+obtain
+mlasterror
+false
+nsmapiinterfacewrapper
+lpmapiprop
+newentry
+mlasterror
+container
+createentry
+value
+value
+bin
+cb
+nsreinterpretcast
+lpentryid
+value
+value
+bin
+lpb
+createcheckduploose
+newentry
+freebuffer
+value
+hrfailed
+mlasterror
+printf
+cannot
+create
+entry
+mlasterror
+false
+spropvalue
+displayname
+lpspropproblemarray
+problems
+nsautostring
+tempname
+displayname
+ulproptag
+prdisplaynamew
+tempname
+assign
+nsliteralstring
+maillist
+tempname
+appendint
+mentrycounter
+displayname
+value
+lpszw
+nsconstcast
+word
+tempname
+get
+mlasterror
+newentry
+setprops
+displayname
+problems
+hrfailed
+mlasterror
+printf
+cannot
+set
+temporary
+name
+mlasterror
+false
+mlasterror
+newentry
+savechanges
+keepopenreadonly
+hrfailed
+mlasterror
+printf
+cannot
+commit
+entry
+mlasterror
+false
+property
+aulproptag
+prentryid
+mlasterror
+newentry
+getprops
+property
+valuecount
+value
+hrfailed
+mlasterror
+valuecount
+printf
+cannot
+get
+entry
+id
+mlasterror
+false
+anewentry
+assign
+value
+value
+bin
+cb
+nsreinterpretcast
+lpentryid
+value
+value
+bin
+lpb
+freebuffer
+value
+true
+bool
+nsabwinhelper
+copyentry
+nsmapientry
+acontainer
+nsmapientry
+asource
+nsmapientry
+atarget
+nsmapiinterfacewrapper
+lpabcont
+container
+ulong
+objtype
+mlasterror
+maddressbook
+openentry
+acontainer
+mbytecount
+acontainer
+mentryid
+iidiabcontainer
+mapimodify
+objtype
+container
+hrfailed
+mlasterror
+printf
+cannot
+open
+container
+mlasterror
+false
+nsmapiinterfacewrapper
+lpmapiprop
+newentry
+mlasterror
+container
+createentry
+asource
+mbytecount
+asource
+mentryid
+createcheckduploose
+newentry
+hrfailed
+mlasterror
+printf
+cannot
+create
+entry
+mlasterror
+false
+mlasterror
+newentry
+savechanges
+keepopenreadonly
+hrfailed
+mlasterror
+printf
+cannot
+commit
+entry
+mlasterror
+false
+sproptagarray
+property
+lpspropvalue
+value
+ulong
+valuecount
+property
+cvalues
+property
+aulproptag
+prentryid
+mlasterror
+newentry
+getprops
+property
+valuecount
+value
+hrfailed
+mlasterror
+valuecount
+printf
+cannot
+get
+entry
+id
+mlasterror
+false
+atarget
+assign
+value
+value
+bin
+cb
+nsreinterpretcast
+lpentryid
+value
+value
+bin
+lpb
+freebuffer
+value
+true
+bool
+nsabwinhelper
+getdefaultcontainer
+nsmapientry
+acontainer
+lpentryid
+entryid
+ulong
+bytecount
+mlasterror
+maddressbook
+getpab
+bytecount
+entryid
+hrfailed
+mlasterror
+printf
+cannot
+get
+pab
+mlasterror
+false
+acontainer
+assign
+bytecount
+entryid
+freebuffer
+entryid
+true
+contentscolumnentryid
+contentscolumnobjecttype
+contentscolumnssize
+sizedsproptagarray
+contentscolumnssize
+contentscolumns
+contentscolumnssize
+prentryid
+probjecttype
+bool
+nsabwinhelper
+getcontents
+nsmapientry
+aparent
+lpsrestriction
+arestriction
+nsmapientry
+alist
+ulong
+anbelements
+ulong
+amapitype
+alist
+alist
+anbelements
+nsmapiinterfacewrapper
+lpmapicontainer
+parent
+nsmapiinterfacewrapper
+lpmapitable
+contents
+ulong
+objtype
+ulong
+rowcount
+mlasterror
+maddressbook
+openentry
+aparent
+mbytecount
+aparent
+mentryid
+iidimapicontainer
+objtype
+parent
+hrfailed
+mlasterror
+printf
+cannot
+open
+parent
+mlasterror
+false
+mlasterror
+parent
+getcontentstable
+contents
+hrfailed
+mlasterror
+printf
+cannot
+get
+contents
+mlasterror
+false
+arestriction
+mlasterror
+contents
+restrict
+arestriction
+hrfailed
+mlasterror
+printf
+cannot
+set
+restriction
+mlasterror
+false
+mlasterror
+contents
+setcolumns
+lpsproptagarray
+contentscolumns
+hrfailed
+mlasterror
+printf
+cannot
+set
+columns
+mlasterror
+false
+mlasterror
+contents
+getrowcount
+rowcount
+hrfailed
+mlasterror
+printf
+cannot
+get
+result
+count
+mlasterror
+false
+alist
+alist
+nsmapientry
+rowcount
+anbelements
+lpsrowset
+rowset
+rowcount
+mlasterror
+contents
+queryrows
+rowset
+hrfailed
+mlasterror
+printf
+cannot
+query
+rows
+mlasterror
+false
+rowcount
+rowset
+crows
+rowcount
+amapitype
+rowset
+arow
+lpprops
+contentscolumnobjecttype
+value
+ul
+amapitype
+alist
+nsmapientry
+current
+alist
+anbelements
+spropvalue
+currentvalue
+rowset
+arow
+lpprops
+contentscolumnentryid
+current
+assign
+currentvalue
+value
+bin
+cb
+nsreinterpretcast
+lpentryid
+currentvalue
+value
+bin
+lpb
+anbelements
+myfreeprows
+rowset
+rowcount
+true
+bool
+nsabwinhelper
+getmapiproperties
+nsmapientry
+aobject
+ulong
+apropertytags
+ulong
+anbproperties
+lpspropvalue
+avalue
+ulong
+avaluecount
+nsmapiinterfacewrapper
+lpmapiprop
+object
+ulong
+objtype
+lpsproptagarray
+properties
+ulong
+mlasterror
+maddressbook
+openentry
+aobject
+mbytecount
+aobject
+mentryid
+iidimapiprop
+objtype
+object
+hrfailed
+mlasterror
+printf
+cannot
+open
+entry
+mlasterror
+false
+allocatebuffer
+cbnewsproptagarray
+anbproperties
+nsreinterpretcast
+properties
+properties
+cvalues
+anbproperties
+anbproperties
+properties
+aulproptag
+apropertytags
+mlasterror
+object
+getprops
+properties
+avaluecount
+avalue
+freebuffer
+properties
+hrfailed
+mlasterror
+printf
+cannot
+get
+props
+mlasterror
+hrsucceeded
+mlasterror
+bool
+nsabwinhelper
+setmapiproperties
+nsmapientry
+aobject
+ulong
+anbproperties
+lpspropvalue
+avalues
+nsmapiinterfacewrapper
+lpmapiprop
+object
+ulong
+objtype
+lpspropproblemarray
+problems
+mlasterror
+maddressbook
+openentry
+aobject
+mbytecount
+aobject
+mentryid
+iidimapiprop
+mapimodify
+objtype
+object
+hrfailed
+mlasterror
+printf
+cannot
+open
+entry
+mlasterror
+false
+mlasterror
+object
+setprops
+anbproperties
+avalues
+problems
+hrfailed
+mlasterror
+printf
+cannot
+update
+the
+object
+mlasterror
+false
+problems
+ulong
+problems
+cproblem
+printf
+problem
+index
+code
+problems
+aproblem
+ulindex
+problems
+aproblem
+scode
+mlasterror
+object
+savechanges
+hrfailed
+mlasterror
+printf
+cannot
+commit
+changes
+mlasterror
+hrsucceeded
+mlasterror
+nsabwinhelper
+myfreeprows
+lpsrowset
+arowset
+arowset
+ulong
+arowset
+crows
+freebuffer
+arowset
+arow
+lpprops
+freebuffer
+arowset
+nsabwinhelperguard
+nsabwinhelperguard
+pruint
+atype
+mhelper
+atype
+nsabwintypeoutlook
+mhelper
+nsmapiaddressbook
+nsabwintypeoutlookexp
+mhelper
+nswabaddressbook
+nsabwinhelperguard
+nsabwinhelperguard
+mhelper
+koutlookdirectoryscheme
+moz
+aboutlookdirectory
+koutlookdirschemelength
+koutlookstub
+op
+koutlookstublength
+koutlookexpstub
+oe
+koutlookexpstublength
+koutlookcardscheme
+moz
+aboutlookcard
+koutlookcardschemelength
+nsabwintype
+getabwintype
+ascheme
+auri
+nscstring
+astub
+nscstring
+aentry
+astub
+truncate
+aentry
+truncate
+pruint
+schemelength
+strlen
+ascheme
+nscrt
+strncmp
+auri
+ascheme
+schemelength
+nscrt
+strncmp
+auri
+schemelength
+koutlookstub
+koutlookstublength
+aentry
+auri
+schemelength
+koutlookstublength
+astub
+koutlookstub
+nsabwintypeoutlook
+nscrt
+strncmp
+auri
+schemelength
+koutlookexpstub
+koutlookexpstublength
+aentry
+auri
+schemelength
+koutlookexpstublength
+astub
+koutlookexpstub
+nsabwintypeoutlookexp
+nsabwintypeunknown
+buildabwinuri
+ascheme
+pruint
+atype
+nscstring
+auri
+auri
+assign
+ascheme
+atype
+nsabwintypeoutlook
+auri
+append
+koutlookstub
+nsabwintypeoutlookexp
+auri
+append
+koutlookexpstub
+auri
+assign
\ No newline at end of file
@@ -0,0 +1,6989 @@
+nsaddrdatabase
+nsienumerator
+nsfilestream
+nsstring
+nsreadableutils
+nsrdfcid
+nsunicharutils
+nsabbasecid
+nsiabcard
+nsiabmdbcard
+nsiabdirectory
+nsiabmdbdirectory
+nsiaddrbooksession
+nsiservicemanager
+nsrdfcid
+nsipref
+nsmorkcid
+nsimdbfactoryfactory
+nsxpidlstring
+nsirdfservice
+nsiproxyobjectmanager
+nsproxiedservice
+prprf
+nsipromptservice
+nsistringbundle
+nsaddressbook
+define
+idpabtable
+define
+iddeletedcardstable
+print
+kaddressbookdbversion
+kpabtablekind
+ns
+addrbk
+db
+table
+kind
+pab
+kdeletedcardstablekind
+ns
+addrbk
+db
+table
+kind
+deleted
+kcardrowscope
+ns
+addrbk
+db
+row
+scope
+card
+all
+klistrowscope
+ns
+addrbk
+db
+row
+scope
+list
+all
+kdatarowscope
+ns
+addrbk
+db
+row
+scope
+data
+all
+define
+datarowrowid
+define
+columnstrmax
+define
+purgecutoffcount
+krecordkeycolumn
+recordkey
+klastrecordkeycolumn
+lastrecordkey
+kmaillisttotallists
+listtotallists
+klowerlistnamecolumn
+lowercaselistname
+mdboid
+gaddressbooktableoid
+kmaillistaddressformat
+address
+nsdefinecid
+kcmorkfactory
+nsmorkcid
+nsaddrdatabase
+nsaddrdatabase
+mmdbenv
+nsnull
+mmdbstore
+nsnull
+mmdbpabtable
+nsnull
+mmdbdeletedcardstable
+nsnull
+mdbname
+mmdbtokensinitialized
+prfalse
+mchangelisteners
+nsnull
+mpabtablekind
+mmaillisttablekind
+mdeletedcardstablekind
+mcardrowscopetoken
+mfirstnamecolumntoken
+mlastnamecolumntoken
+mphoneticfirstnamecolumntoken
+mphoneticlastnamecolumntoken
+mdisplaynamecolumntoken
+mnicknamecolumntoken
+mpriemailcolumntoken
+mndemailcolumntoken
+mdefaultemailcolumntoken
+mcardtypecolumntoken
+mworkphonecolumntoken
+mhomephonecolumntoken
+mfaxcolumntoken
+mpagercolumntoken
+mcellularcolumntoken
+mworkphonetypecolumntoken
+mhomephonetypecolumntoken
+mfaxtypecolumntoken
+mpagertypecolumntoken
+mcellulartypecolumntoken
+mhomeaddresscolumntoken
+mhomeaddresscolumntoken
+mhomecitycolumntoken
+mhomestatecolumntoken
+mhomezipcodecolumntoken
+mhomecountrycolumntoken
+mworkaddresscolumntoken
+mworkaddresscolumntoken
+mworkcitycolumntoken
+mworkstatecolumntoken
+mworkzipcodecolumntoken
+mworkcountrycolumntoken
+mcompanycolumntoken
+maimscreennamecolumntoken
+manniversaryyearcolumntoken
+manniversarymonthcolumntoken
+manniversarydaycolumntoken
+mspousenamecolumntoken
+mfamilynamecolumntoken
+mdefaultaddresscolumntoken
+mcategorycolumntoken
+mwebpagecolumntoken
+mwebpagecolumntoken
+mbirthyearcolumntoken
+mbirthmonthcolumntoken
+mbirthdaycolumntoken
+mcustomcolumntoken
+mcustomcolumntoken
+mcustomcolumntoken
+mcustomcolumntoken
+mnotescolumntoken
+mlastmoddatecolumntoken
+mmailformatcolumntoken
+maddresscharsetcolumntoken
+mlastrecordkey
+mdbdirectory
+nsnull
+nsaddrdatabase
+nsaddrdatabase
+close
+prfalse
+mchangelisteners
+nsassertion
+mchangelisteners
+count
+shouldn
+have
+any
+listeners
+mchangelisteners
+removefromcache
+nsimplthreadsafeaddref
+nsaddrdatabase
+nsimethodimp
+nsrefcnt
+nsaddrdatabase
+release
+nsprecondition
+mrefcnt
+dup
+release
+nsrefcnt
+count
+pratomicdecrement
+print
+mrefcnt
+nslogrelease
+count
+nsaddrdatabase
+count
+mrefcnt
+removefromcache
+mmdbpabtable
+mmdbpabtable
+release
+mmdbdeletedcardstable
+mmdbdeletedcardstable
+release
+mmdbstore
+mmdbstore
+release
+mmdbenv
+mmdbenv
+release
+mmdbenv
+nsnull
+nsdeletexpcom
+count
+nsimethodimp
+nsaddrdatabase
+queryinterface
+refnsiid
+aiid
+aresult
+aresult
+nserrornullpointer
+aiid
+equals
+nsgetiid
+nsiaddrdatabase
+aiid
+equals
+nsgetiid
+nsiaddrdbannouncer
+aiid
+equals
+nsgetiid
+nsisupports
+aresult
+nsstaticcast
+nsiaddrdatabase
+nsaddrefthis
+nsok
+nsnointerface
+nsimethodimp
+nsaddrdatabase
+addlistener
+nsiaddrdblistener
+listener
+listener
+nserrornullpointer
+mchangelisteners
+mchangelisteners
+nsvoidarray
+mchangelisteners
+nserroroutofmemory
+print
+count
+mchangelisteners
+count
+print
+count
+nsiaddrdblistener
+dblistener
+nsiaddrdblistener
+mchangelisteners
+elementat
+dblistener
+listener
+nsok
+mchangelisteners
+appendelement
+listener
+nsimethodimp
+nsaddrdatabase
+removelistener
+nsiaddrdblistener
+listener
+mchangelisteners
+nsok
+print
+count
+mchangelisteners
+count
+print
+count
+nsiaddrdblistener
+dblistener
+nsiaddrdblistener
+mchangelisteners
+elementat
+dblistener
+listener
+mchangelisteners
+removeelementat
+nsok
+nserrorfailure
+nsimethodimp
+nsaddrdatabase
+notifycardattribchange
+pruint
+abcode
+nsiaddrdblistener
+instigator
+mchangelisteners
+nsok
+print
+mchangelisteners
+count
+nsiaddrdblistener
+changelistener
+nsiaddrdblistener
+mchangelisteners
+elementat
+nsresult
+rv
+changelistener
+oncardattribchange
+abcode
+instigator
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsaddrdatabase
+notifycardentrychange
+pruint
+abcode
+nsiabcard
+card
+nsiaddrdblistener
+instigator
+mchangelisteners
+nsok
+print
+print
+count
+mchangelisteners
+count
+count
+nsiaddrdblistener
+changelistener
+nsiaddrdblistener
+mchangelisteners
+elementat
+changelistener
+nsresult
+rv
+changelistener
+oncardentrychange
+abcode
+card
+instigator
+nsensuresuccess
+rv
+rv
+mchangelisteners
+removeelementat
+nsok
+nsresult
+nsaddrdatabase
+notifylistentrychange
+pruint
+abcode
+nsiabdirectory
+dir
+nsiaddrdblistener
+instigator
+mchangelisteners
+nsok
+print
+print
+count
+mchangelisteners
+count
+count
+nsiaddrdblistener
+changelistener
+nsiaddrdblistener
+mchangelisteners
+elementat
+nsresult
+rv
+changelistener
+onlistentrychange
+abcode
+dir
+instigator
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsaddrdatabase
+notifyannouncergoingaway
+mchangelisteners
+nsok
+print
+mchangelisteners
+count
+nsiaddrdblistener
+changelistener
+nsiaddrdblistener
+mchangelisteners
+elementat
+nsresult
+rv
+changelistener
+onannouncergoingaway
+nsensuresuccess
+rv
+rv
+nsok
+nsvoidarray
+nsaddrdatabase
+mdbcache
+nsvoidarray
+nsaddrdatabase
+getdbcache
+mdbcache
+mdbcache
+nsvoidarray
+mdbcache
+nsaddrdatabase
+cleanupcache
+mdbcache
+print
+getdbcache
+count
+nsaddrdatabase
+paddrdb
+nsstaticcast
+nsaddrdatabase
+getdbcache
+elementat
+paddrdb
+paddrdb
+forceclosed
+mdbcache
+mdbcache
+nsnull
+nsaddrdatabase
+nsaddrdatabase
+findincache
+nsfilespec
+dbname
+print
+getdbcache
+count
+nsaddrdatabase
+paddrdb
+nsstaticcast
+nsaddrdatabase
+getdbcache
+elementat
+paddrdb
+matchdbname
+dbname
+nsaddref
+paddrdb
+paddrdb
+nsnull
+print
+nsaddrdatabase
+findincache
+nsaddrdatabase
+paddrdb
+print
+getdbcache
+count
+getdbcache
+elementat
+paddrdb
+prbool
+nsaddrdatabase
+matchdbname
+nsfilespec
+dbname
+mdbname
+dbname
+nsaddrdatabase
+removefromcache
+nsaddrdatabase
+paddrdb
+print
+findincache
+paddrdb
+getdbcache
+removeelementat
+nsimdbfactory
+nsaddrdatabase
+getmdbfactory
+nsimdbfactory
+gmdbfactory
+nsnull
+gmdbfactory
+nsresult
+rv
+nscomptr
+nsimdbfactoryfactory
+factoryfactory
+docreateinstance
+kcmorkfactory
+rv
+nssucceeded
+rv
+factoryfactory
+rv
+factoryfactory
+getmdbfactory
+gmdbfactory
+gmdbfactory
+defined
+xpwin
+defined
+xpos
+nsaddrdatabase
+unixtonative
+iopath
+iopath
+iopath
+src
+iopath
+iopath
+src
+cp
+src
+iopath
+strstr
+cp
+cp
+cp
+cp
+cp
+cp
+iopath
+cp
+iopath
+cp
+cp
+cp
+cp
+endif
+ifdef
+xpmac
+nsaddrdatabase
+unixtonative
+iopath
+sizet
+len
+strlen
+iopath
+result
+len
+result
+dst
+result
+src
+iopath
+src
+src
+plstrchr
+src
+dst
+strcpy
+dst
+src
+dst
+dst
+dst
+dst
+nscrt
+free
+iopath
+iopath
+result
+endif
+nsimethodimp
+nsaddrdatabase
+getdbpath
+nsfilespec
+adbpath
+adbpath
+nsfilespec
+pfilepath
+nsfilespec
+pfilepath
+mdbname
+adbpath
+pfilepath
+nsok
+nserrornullpointer
+nsimethodimp
+nsaddrdatabase
+setdbpath
+nsfilespec
+adbpath
+mdbname
+adbpath
+nsok
+nsimethodimp
+nsaddrdatabase
+open
+nsfilespec
+amabfile
+prbool
+acreate
+nsiaddrdatabase
+paddrdb
+prbool
+upgrading
+paddrdb
+nsnull
+nsaddrdatabase
+paddressbookdb
+nsaddrdatabase
+findincache
+amabfile
+paddressbookdb
+paddrdb
+paddressbookdb
+nsok
+nsresult
+rv
+openinternal
+amabfile
+acreate
+paddrdb
+nssucceeded
+rv
+nsok
+acreate
+nsfilespec
+newmabfile
+nsfilespec
+amabfile
+nsxpidlcstring
+originalmabfilename
+originalmabfilename
+adopt
+amabfile
+getleafname
+nscautostring
+backupmabfilename
+originalmabfilename
+backupmabfilename
+bak
+newmabfile
+makeunique
+backupmabfilename
+get
+backupmabfilename
+adopt
+newmabfile
+getleafname
+rv
+amabfile
+rename
+backupmabfilename
+get
+nsassertion
+nssucceeded
+rv
+failed
+to
+rename
+corrupt
+mab
+file
+nssucceeded
+rv
+newmabfile
+setleafname
+originalmabfilename
+rv
+openinternal
+newmabfile
+acreate
+paddrdb
+nsassertion
+nssucceeded
+rv
+failed
+to
+create
+mab
+file
+after
+rename
+nssucceeded
+rv
+alertaboutcorruptmabfile
+nsconvertasciitoucs
+originalmabfilename
+get
+nsconvertasciitoucs
+backupmabfilename
+get
+newmabfile
+rv
+nsresult
+nsaddrdatabase
+alertaboutcorruptmabfile
+prunichar
+aoldfilename
+prunichar
+anewfilename
+nsresult
+rv
+nscomptr
+nsistringbundleservice
+bundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsistringbundle
+bundle
+rv
+bundleservice
+createbundle
+messenger
+locale
+addressbook
+addressbook
+properties
+getteraddrefs
+bundle
+nsensuresuccess
+rv
+rv
+prunichar
+formatstrings
+aoldfilename
+aoldfilename
+anewfilename
+nsxpidlstring
+alertmessage
+rv
+bundle
+formatstringfromname
+nsliteralstring
+corruptmabfilealert
+get
+formatstrings
+gettercopies
+alertmessage
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+alerttitle
+rv
+bundle
+getstringfromname
+nsliteralstring
+corruptmabfiletitle
+get
+gettercopies
+alerttitle
+nsensuresuccess
+rv
+rv
+nscomptr
+nsipromptservice
+prompter
+dogetservice
+embedcomp
+prompt
+service
+rv
+nsensuresuccess
+rv
+rv
+rv
+prompter
+alert
+nsnull
+alerttitle
+get
+alertmessage
+get
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsaddrdatabase
+openinternal
+nsfilespec
+amabfile
+prbool
+acreate
+nsiaddrdatabase
+paddrdb
+nsaddrdatabase
+paddressbookdb
+nsaddrdatabase
+paddressbookdb
+nserroroutofmemory
+nsaddref
+paddressbookdb
+nsresult
+rv
+paddressbookdb
+openmdb
+amabfile
+acreate
+nssucceeded
+rv
+paddressbookdb
+setdbpath
+amabfile
+getdbcache
+appendelement
+paddressbookdb
+paddrdb
+paddressbookdb
+paddrdb
+nsnull
+paddressbookdb
+forceclosed
+nsifrelease
+paddressbookdb
+paddressbookdb
+nsnull
+rv
+nsimethodimp
+nsaddrdatabase
+openmdb
+nsfilespec
+dbname
+prbool
+create
+nsresult
+ret
+nsok
+nsimdbfactory
+mymdbfactory
+getmdbfactory
+mymdbfactory
+ret
+mymdbfactory
+makeenv
+mmdbenv
+nssucceeded
+ret
+nsimdbthumb
+thumb
+nsnull
+pfilename
+dbname
+getcstring
+nativefilename
+nscrt
+strdup
+pfilename
+nsimdbheap
+dbheap
+mdbbool
+dbfrozen
+mdbboolkfalse
+nativefilename
+nserroroutofmemory
+mmdbenv
+mmdbenv
+setautoclear
+prtrue
+defined
+xpwin
+defined
+xpos
+defined
+xpmac
+unixtonative
+nativefilename
+endif
+dbname
+exists
+ret
+nserrorfailure
+mdbopenpolicy
+inopenpolicy
+mdbbool
+canopen
+mdbyarn
+outformatversion
+nsimdbfile
+oldfile
+ret
+mymdbfactory
+openoldfile
+mmdbenv
+dbheap
+nativefilename
+dbfrozen
+oldfile
+oldfile
+ret
+nsok
+ret
+mymdbfactory
+canopenfileport
+mmdbenv
+oldfile
+canopen
+outformatversion
+ret
+canopen
+inopenpolicy
+mopenpolicyscopeplan
+mscopestringsetcount
+inopenpolicy
+mopenpolicyminmemory
+inopenpolicy
+mopenpolicymaxlazy
+ret
+mymdbfactory
+openfilestore
+mmdbenv
+dbheap
+oldfile
+inopenpolicy
+thumb
+ret
+nserrorfailure
+nsrelease
+oldfile
+nscrt
+free
+nativefilename
+nssucceeded
+ret
+thumb
+mdbcount
+outtotal
+mdbcount
+outcurrent
+mdbbool
+outdone
+prfalse
+mdbbool
+outbroken
+ret
+thumb
+domore
+mmdbenv
+outtotal
+outcurrent
+outdone
+outbroken
+ret
+outdone
+prtrue
+nssucceeded
+ret
+outbroken
+outdone
+nssucceeded
+ret
+outdone
+ret
+mymdbfactory
+thumbtoopenstore
+mmdbenv
+thumb
+mmdbstore
+ret
+nsok
+mmdbstore
+ret
+initexistingdb
+create
+prfalse
+create
+nsimdbfile
+newfile
+ret
+mymdbfactory
+createnewfile
+mmdbenv
+dbheap
+dbname
+getcstring
+newfile
+newfile
+ret
+nsok
+mdbopenpolicy
+inopenpolicy
+inopenpolicy
+mopenpolicyscopeplan
+mscopestringsetcount
+inopenpolicy
+mopenpolicyminmemory
+inopenpolicy
+mopenpolicymaxlazy
+ret
+mymdbfactory
+createnewfilestore
+mmdbenv
+dbheap
+newfile
+inopenpolicy
+mmdbstore
+ret
+nsok
+ret
+initnewdb
+nsrelease
+newfile
+nsifrelease
+thumb
+ret
+ret
+nserrorfailure
+ret
+nsimethodimp
+nsaddrdatabase
+closemdb
+prbool
+commit
+commit
+commit
+nsaddrdbcommittype
+ksessioncommit
+nsok
+nsimethodimp
+nsaddrdatabase
+forceclosed
+nsresult
+err
+nsok
+nscomptr
+nsiaddrdatabase
+adb
+doqueryinterface
+err
+addref
+notifyannouncergoingaway
+removefromcache
+err
+closemdb
+prfalse
+mmdbstore
+mmdbstore
+release
+mmdbstore
+nsnull
+release
+err
+nsimethodimp
+nsaddrdatabase
+commit
+pruint
+committype
+nsresult
+err
+nsok
+nsimdbthumb
+committhumb
+nsnull
+committype
+nsaddrdbcommittype
+klargecommit
+committype
+nsaddrdbcommittype
+ksessioncommit
+mdbpercent
+outactualwaste
+mdbbool
+outshould
+mmdbstore
+err
+mmdbstore
+shouldcompress
+getenv
+outactualwaste
+outshould
+nssucceeded
+err
+outshould
+committype
+nsaddrdbcommittype
+kcompresscommit
+mmdbstore
+committype
+nsaddrdbcommittype
+ksmallcommit
+err
+mmdbstore
+smallcommit
+getenv
+nsaddrdbcommittype
+klargecommit
+err
+mmdbstore
+largecommit
+getenv
+committhumb
+nsaddrdbcommittype
+ksessioncommit
+err
+mmdbstore
+sessioncommit
+getenv
+committhumb
+nsaddrdbcommittype
+kcompresscommit
+err
+mmdbstore
+compresscommit
+getenv
+committhumb
+committhumb
+mdbcount
+outtotal
+mdbcount
+outcurrent
+mdbbool
+outdone
+prfalse
+mdbbool
+outbroken
+prfalse
+outdone
+outbroken
+err
+nsok
+err
+committhumb
+domore
+getenv
+outtotal
+outcurrent
+outdone
+outbroken
+nsrelease
+committhumb
+getenv
+getenv
+clearerrors
+err
+nsimethodimp
+nsaddrdatabase
+close
+prbool
+forcecommit
+closemdb
+forcecommit
+nsresult
+nsaddrdatabase
+initnewdb
+nsresult
+err
+nsok
+err
+initmdbinfo
+nssucceeded
+err
+err
+initpabtable
+err
+initlastrecorkey
+commit
+nsaddrdbcommittype
+klargecommit
+err
+nsresult
+nsaddrdatabase
+addrowtodeletedcardstable
+nsiabcard
+card
+nsimdbrow
+pcardrow
+nsresult
+rv
+nsok
+mmdbdeletedcardstable
+rv
+initdeletedcardstable
+prtrue
+nssucceeded
+rv
+purgedeletedcardtable
+nscomptr
+nsimdbrow
+cardrow
+rv
+getnewrow
+getteraddrefs
+cardrow
+nssucceeded
+rv
+cardrow
+mdberr
+merror
+mmdbdeletedcardstable
+addrow
+getenv
+cardrow
+merror
+nsok
+nserrorfailure
+nsxpidlstring
+unicodestr
+card
+getfirstname
+gettercopies
+unicodestr
+addfirstname
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getlastname
+gettercopies
+unicodestr
+addlastname
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getdisplayname
+gettercopies
+unicodestr
+adddisplayname
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getprimaryemail
+gettercopies
+unicodestr
+unicodestr
+addunicodetocolumn
+cardrow
+mpriemailcolumntoken
+mlowerpriemailcolumntoken
+unicodestr
+pruint
+nowinseconds
+prtime
+now
+prnow
+prtimeseconds
+now
+nowinseconds
+addintcolumn
+cardrow
+mlastmoddatecolumntoken
+nowinseconds
+nsxpidlstring
+value
+getcardvalue
+card
+cardattribpalmid
+gettercopies
+value
+value
+nscomptr
+nsiabcard
+addedcard
+rv
+createcardfromdeletedcardstable
+cardrow
+getteraddrefs
+addedcard
+nssucceeded
+rv
+setcardvalue
+addedcard
+cardattribpalmid
+value
+prfalse
+nsifaddref
+pcardrow
+cardrow
+commit
+nsaddrdbcommittype
+klargecommit
+rv
+nsresult
+nsaddrdatabase
+deleterowfromdeletedcardstable
+nsimdbrow
+pcardrow
+mdberr
+merror
+nsok
+mmdbdeletedcardstable
+pcardrow
+cutallcolumns
+getenv
+merror
+mmdbdeletedcardstable
+cutrow
+getenv
+pcardrow
+merror
+nsresult
+nsaddrdatabase
+initdeletedcardstable
+prbool
+acreate
+mdberr
+mdberr
+nsok
+mmdbdeletedcardstable
+mdboid
+deletedcardstableoid
+deletedcardstableoid
+moidscope
+mcardrowscopetoken
+deletedcardstableoid
+moidid
+iddeletedcardstable
+nsimdbstore
+store
+getstore
+store
+store
+gettable
+getenv
+deletedcardstableoid
+mmdbdeletedcardstable
+mmdbdeletedcardstable
+acreate
+mdberr
+nsresult
+store
+newtablewithoid
+getenv
+deletedcardstableoid
+mdeletedcardstablekind
+prtrue
+mdboid
+nsnull
+mmdbdeletedcardstable
+mdberr
+nsresult
+nsaddrdatabase
+initpabtable
+nsimdbstore
+store
+getstore
+mdberr
+mdberr
+nsresult
+store
+newtablewithoid
+getenv
+gaddressbooktableoid
+mpabtablekind
+prfalse
+mdboid
+nsnull
+mmdbpabtable
+mdberr
+nsresult
+nsaddrdatabase
+initlastrecorkey
+mmdbpabtable
+nserrornullpointer
+nsresult
+err
+nsok
+nsimdbrow
+pdatarow
+nsnull
+mdboid
+datarowoid
+datarowoid
+moidscope
+mdatarowscopetoken
+datarowoid
+moidid
+datarowrowid
+err
+getstore
+newrowwithoid
+getenv
+datarowoid
+pdatarow
+nssucceeded
+err
+pdatarow
+mlastrecordkey
+err
+addintcolumn
+pdatarow
+mlastrecordkeycolumntoken
+err
+mmdbpabtable
+addrow
+getenv
+pdatarow
+nsrelease
+pdatarow
+err
+nsresult
+nsaddrdatabase
+getdatarow
+nsimdbrow
+pdatarow
+nsimdbrow
+prow
+nsnull
+mdboid
+datarowoid
+datarowoid
+moidscope
+mdatarowscopetoken
+datarowoid
+moidid
+datarowrowid
+getstore
+getrow
+getenv
+datarowoid
+prow
+pdatarow
+prow
+prow
+nsok
+nserrorfailure
+nsresult
+nsaddrdatabase
+getlastrecordkey
+mmdbpabtable
+nserrornullpointer
+nsresult
+err
+nsok
+nscomptr
+nsimdbrow
+pdatarow
+err
+getdatarow
+getteraddrefs
+pdatarow
+nssucceeded
+err
+pdatarow
+mlastrecordkey
+err
+getintcolumn
+pdatarow
+mlastrecordkeycolumntoken
+mlastrecordkey
+nsfailed
+err
+err
+nserrornotavailable
+nsok
+nserrornotavailable
+err
+nsresult
+nsaddrdatabase
+updatelastrecordkey
+mmdbpabtable
+nserrornullpointer
+nsresult
+err
+nsok
+nscomptr
+nsimdbrow
+pdatarow
+err
+getdatarow
+getteraddrefs
+pdatarow
+nssucceeded
+err
+pdatarow
+err
+addintcolumn
+pdatarow
+mlastrecordkeycolumntoken
+mlastrecordkey
+err
+mmdbpabtable
+addrow
+getenv
+pdatarow
+nsok
+pdatarow
+err
+initlastrecorkey
+nserrornotavailable
+err
+nsresult
+nsaddrdatabase
+initexistingdb
+nsresult
+err
+nsok
+err
+initmdbinfo
+err
+nsok
+err
+getstore
+gettable
+getenv
+gaddressbooktableoid
+mmdbpabtable
+err
+getlastrecordkey
+err
+nserrornotavailable
+checkandupdaterecordkey
+updatelowercaseemaillistname
+err
+nsresult
+nsaddrdatabase
+checkandupdaterecordkey
+nsresult
+err
+nsok
+nsimdbtablerowcursor
+rowcursor
+nsnull
+nsimdbrow
+findrow
+nsnull
+mdbpos
+rowpos
+mdberr
+merror
+mmdbpabtable
+gettablerowcursor
+getenv
+rowcursor
+merror
+nsok
+rowcursor
+nserrorfailure
+nscomptr
+nsimdbrow
+pdatarow
+err
+getdatarow
+getteraddrefs
+pdatarow
+nsfailed
+err
+initlastrecorkey
+merror
+rowcursor
+nextrow
+getenv
+findrow
+rowpos
+merror
+nsok
+findrow
+mdboid
+rowoid
+findrow
+getoid
+getenv
+rowoid
+nsok
+isdatarowscopetoken
+rowoid
+moidscope
+mlastrecordkey
+err
+addintcolumn
+findrow
+mrecordkeycolumntoken
+mlastrecordkey
+findrow
+updatelastrecordkey
+commit
+nsaddrdbcommittype
+klargecommit
+nsok
+nsresult
+nsaddrdatabase
+updatelowercaseemaillistname
+nsresult
+err
+nsok
+nsimdbtablerowcursor
+rowcursor
+nsnull
+nsimdbrow
+findrow
+nsnull
+mdbpos
+rowpos
+prbool
+commitrequired
+prfalse
+mdberr
+merror
+mmdbpabtable
+gettablerowcursor
+getenv
+rowcursor
+merror
+nsok
+rowcursor
+nserrorfailure
+merror
+rowcursor
+nextrow
+getenv
+findrow
+rowpos
+merror
+nsok
+findrow
+mdboid
+rowoid
+findrow
+getoid
+getenv
+rowoid
+nsok
+nsautostring
+tempstring
+iscardrowscopetoken
+rowoid
+moidscope
+err
+getstringcolumn
+findrow
+mlowerpriemailcolumntoken
+tempstring
+nssucceeded
+err
+err
+convertandaddlowercasecolumn
+findrow
+mpriemailcolumntoken
+mlowerpriemailcolumntoken
+commitrequired
+prtrue
+islistrowscopetoken
+rowoid
+moidscope
+err
+getstringcolumn
+findrow
+mlowerlistnamecolumntoken
+tempstring
+nssucceeded
+err
+err
+convertandaddlowercasecolumn
+findrow
+mlistnamecolumntoken
+mlowerlistnamecolumntoken
+commitrequired
+prtrue
+findrow
+release
+findrow
+findrow
+findrow
+release
+rowcursor
+release
+commitrequired
+commit
+nsaddrdbcommittype
+klargecommit
+nsok
+nsresult
+nsaddrdatabase
+convertandaddlowercasecolumn
+nsimdbrow
+row
+mdbtoken
+fromcol
+mdbtoken
+tocol
+nsautostring
+colstring
+nsresult
+rv
+getstringcolumn
+row
+fromcol
+colstring
+colstring
+isempty
+rv
+addlowercasecolumn
+row
+tocol
+nsconvertucstoutf
+colstring
+get
+rv
+nsresult
+nsaddrdatabase
+addunicodetocolumn
+nsimdbrow
+row
+mdbtoken
+acoltoken
+mdbtoken
+alowercasecoltoken
+prunichar
+aunicodestr
+nsresult
+rv
+addcharstringcolumn
+row
+acoltoken
+nsconvertucstoutf
+aunicodestr
+get
+nsensuresuccess
+rv
+rv
+rv
+addlowercasecolumn
+row
+alowercasecoltoken
+nsconvertucstoutf
+aunicodestr
+get
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsaddrdatabase
+initmdbinfo
+nsresult
+err
+nsok
+mmdbtokensinitialized
+getstore
+mmdbtokensinitialized
+prtrue
+err
+getstore
+stringtotoken
+getenv
+kcardrowscope
+mcardrowscopetoken
+err
+getstore
+stringtotoken
+getenv
+klistrowscope
+mlistrowscopetoken
+err
+getstore
+stringtotoken
+getenv
+kdatarowscope
+mdatarowscopetoken
+gaddressbooktableoid
+moidscope
+mcardrowscopetoken
+gaddressbooktableoid
+moidid
+idpabtable
+nssucceeded
+err
+getstore
+stringtotoken
+getenv
+kfirstnamecolumn
+mfirstnamecolumntoken
+getstore
+stringtotoken
+getenv
+klastnamecolumn
+mlastnamecolumntoken
+getstore
+stringtotoken
+getenv
+kphoneticfirstnamecolumn
+mphoneticfirstnamecolumntoken
+getstore
+stringtotoken
+getenv
+kphoneticlastnamecolumn
+mphoneticlastnamecolumntoken
+getstore
+stringtotoken
+getenv
+kdisplaynamecolumn
+mdisplaynamecolumntoken
+getstore
+stringtotoken
+getenv
+knicknamecolumn
+mnicknamecolumntoken
+getstore
+stringtotoken
+getenv
+kpriemailcolumn
+mpriemailcolumntoken
+getstore
+stringtotoken
+getenv
+klowerpriemailcolumn
+mlowerpriemailcolumntoken
+getstore
+stringtotoken
+getenv
+kndemailcolumn
+mndemailcolumntoken
+getstore
+stringtotoken
+getenv
+kdefaultemailcolumn
+mdefaultemailcolumntoken
+getstore
+stringtotoken
+getenv
+kcardtypecolumn
+mcardtypecolumntoken
+getstore
+stringtotoken
+getenv
+kprefermailformatcolumn
+mmailformatcolumntoken
+getstore
+stringtotoken
+getenv
+kworkphonecolumn
+mworkphonecolumntoken
+getstore
+stringtotoken
+getenv
+khomephonecolumn
+mhomephonecolumntoken
+getstore
+stringtotoken
+getenv
+kfaxcolumn
+mfaxcolumntoken
+getstore
+stringtotoken
+getenv
+kpagercolumn
+mpagercolumntoken
+getstore
+stringtotoken
+getenv
+kcellularcolumn
+mcellularcolumntoken
+getstore
+stringtotoken
+getenv
+kworkphonetypecolumn
+mworkphonetypecolumntoken
+getstore
+stringtotoken
+getenv
+khomephonetypecolumn
+mhomephonetypecolumntoken
+getstore
+stringtotoken
+getenv
+kfaxtypecolumn
+mfaxtypecolumntoken
+getstore
+stringtotoken
+getenv
+kpagertypecolumn
+mpagertypecolumntoken
+getstore
+stringtotoken
+getenv
+kcellulartypecolumn
+mcellulartypecolumntoken
+getstore
+stringtotoken
+getenv
+khomeaddresscolumn
+mhomeaddresscolumntoken
+getstore
+stringtotoken
+getenv
+khomeaddresscolumn
+mhomeaddresscolumntoken
+getstore
+stringtotoken
+getenv
+khomecitycolumn
+mhomecitycolumntoken
+getstore
+stringtotoken
+getenv
+khomestatecolumn
+mhomestatecolumntoken
+getstore
+stringtotoken
+getenv
+khomezipcodecolumn
+mhomezipcodecolumntoken
+getstore
+stringtotoken
+getenv
+khomecountrycolumn
+mhomecountrycolumntoken
+getstore
+stringtotoken
+getenv
+kworkaddresscolumn
+mworkaddresscolumntoken
+getstore
+stringtotoken
+getenv
+kworkaddresscolumn
+mworkaddresscolumntoken
+getstore
+stringtotoken
+getenv
+kworkcitycolumn
+mworkcitycolumntoken
+getstore
+stringtotoken
+getenv
+kworkstatecolumn
+mworkstatecolumntoken
+getstore
+stringtotoken
+getenv
+kworkzipcodecolumn
+mworkzipcodecolumntoken
+getstore
+stringtotoken
+getenv
+kworkcountrycolumn
+mworkcountrycolumntoken
+getstore
+stringtotoken
+getenv
+kjobtitlecolumn
+mjobtitlecolumntoken
+getstore
+stringtotoken
+getenv
+kdepartmentcolumn
+mdepartmentcolumntoken
+getstore
+stringtotoken
+getenv
+kcompanycolumn
+mcompanycolumntoken
+getstore
+stringtotoken
+getenv
+kaimscreennamecolumn
+maimscreennamecolumntoken
+getstore
+stringtotoken
+getenv
+kanniversaryyearcolumn
+manniversaryyearcolumntoken
+getstore
+stringtotoken
+getenv
+kanniversarymonthcolumn
+manniversarymonthcolumntoken
+getstore
+stringtotoken
+getenv
+kanniversarydaycolumn
+manniversarydaycolumntoken
+getstore
+stringtotoken
+getenv
+kspousenamecolumn
+mspousenamecolumntoken
+getstore
+stringtotoken
+getenv
+kfamilynamecolumn
+mfamilynamecolumntoken
+getstore
+stringtotoken
+getenv
+kdefaultaddresscolumn
+mdefaultaddresscolumntoken
+getstore
+stringtotoken
+getenv
+kcategorycolumn
+mcategorycolumntoken
+getstore
+stringtotoken
+getenv
+kwebpagecolumn
+mwebpagecolumntoken
+getstore
+stringtotoken
+getenv
+kwebpagecolumn
+mwebpagecolumntoken
+getstore
+stringtotoken
+getenv
+kbirthyearcolumn
+mbirthyearcolumntoken
+getstore
+stringtotoken
+getenv
+kbirthmonthcolumn
+mbirthmonthcolumntoken
+getstore
+stringtotoken
+getenv
+kbirthdaycolumn
+mbirthdaycolumntoken
+getstore
+stringtotoken
+getenv
+kcustomcolumn
+mcustomcolumntoken
+getstore
+stringtotoken
+getenv
+kcustomcolumn
+mcustomcolumntoken
+getstore
+stringtotoken
+getenv
+kcustomcolumn
+mcustomcolumntoken
+getstore
+stringtotoken
+getenv
+kcustomcolumn
+mcustomcolumntoken
+getstore
+stringtotoken
+getenv
+knotescolumn
+mnotescolumntoken
+getstore
+stringtotoken
+getenv
+klastmodifieddatecolumn
+mlastmoddatecolumntoken
+getstore
+stringtotoken
+getenv
+krecordkeycolumn
+mrecordkeycolumntoken
+getstore
+stringtotoken
+getenv
+kaddresscharsetcolumn
+maddresscharsetcolumntoken
+getstore
+stringtotoken
+getenv
+klastrecordkeycolumn
+mlastrecordkeycolumntoken
+err
+getstore
+stringtotoken
+getenv
+kpabtablekind
+mpabtablekind
+getstore
+stringtotoken
+getenv
+kmaillistname
+mlistnamecolumntoken
+getstore
+stringtotoken
+getenv
+kmaillistnickname
+mlistnicknamecolumntoken
+getstore
+stringtotoken
+getenv
+kmaillistdescription
+mlistdescriptioncolumntoken
+getstore
+stringtotoken
+getenv
+kmaillisttotaladdresses
+mlisttotalcolumntoken
+getstore
+stringtotoken
+getenv
+klowerlistnamecolumn
+mlowerlistnamecolumntoken
+getstore
+stringtotoken
+getenv
+kdeletedcardstablekind
+mdeletedcardstablekind
+err
+nsresult
+nsaddrdatabase
+addrecordkeycolumntorow
+nsimdbrow
+prow
+prow
+mlastrecordkey
+nsresult
+err
+addintcolumn
+prow
+mrecordkeycolumntoken
+mlastrecordkey
+err
+mmdbpabtable
+addrow
+getenv
+prow
+updatelastrecordkey
+nsok
+nserrornullpointer
+nsresult
+nsaddrdatabase
+addattributecolumnstorow
+nsiabcard
+card
+nsimdbrow
+cardrow
+nsresult
+err
+nsok
+card
+cardrow
+nserrornullpointer
+mdboid
+rowoid
+tableoid
+mmdbpabtable
+getoid
+getenv
+tableoid
+cardrow
+getoid
+getenv
+rowoid
+nscomptr
+nsiabmdbcard
+dbcard
+doqueryinterface
+card
+err
+nssucceeded
+err
+dbcard
+dbcard
+setdbtableid
+tableoid
+moidid
+dbcard
+setdbrowid
+rowoid
+moidid
+card
+cardrow
+nsxpidlstring
+unicodestr
+card
+getfirstname
+gettercopies
+unicodestr
+addfirstname
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getlastname
+gettercopies
+unicodestr
+addlastname
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getphoneticfirstname
+gettercopies
+unicodestr
+addphoneticfirstname
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getphoneticlastname
+gettercopies
+unicodestr
+addphoneticlastname
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getdisplayname
+gettercopies
+unicodestr
+adddisplayname
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getnickname
+gettercopies
+unicodestr
+addnickname
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getprimaryemail
+gettercopies
+unicodestr
+unicodestr
+addunicodetocolumn
+cardrow
+mpriemailcolumntoken
+mlowerpriemailcolumntoken
+unicodestr
+card
+getsecondemail
+gettercopies
+unicodestr
+addndemail
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getdefaultemail
+gettercopies
+unicodestr
+adddefaultemail
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getcardtype
+gettercopies
+unicodestr
+addcardtype
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+pruint
+format
+nsiabprefermailformat
+unknown
+card
+getprefermailformat
+format
+addprefermailformat
+cardrow
+format
+card
+getworkphone
+gettercopies
+unicodestr
+addworkphone
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+gethomephone
+gettercopies
+unicodestr
+addhomephone
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getfaxnumber
+gettercopies
+unicodestr
+addfaxnumber
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getpagernumber
+gettercopies
+unicodestr
+addpagernumber
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getcellularnumber
+gettercopies
+unicodestr
+addcellularnumber
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getworkphonetype
+gettercopies
+unicodestr
+addworkphonetype
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+gethomephonetype
+gettercopies
+unicodestr
+addhomephonetype
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getfaxnumbertype
+gettercopies
+unicodestr
+addfaxnumbertype
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getpagernumbertype
+gettercopies
+unicodestr
+addpagernumbertype
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getcellularnumbertype
+gettercopies
+unicodestr
+addcellularnumbertype
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+gethomeaddress
+gettercopies
+unicodestr
+addhomeaddress
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+gethomeaddress
+gettercopies
+unicodestr
+addhomeaddress
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+gethomecity
+gettercopies
+unicodestr
+addhomecity
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+gethomestate
+gettercopies
+unicodestr
+addhomestate
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+gethomezipcode
+gettercopies
+unicodestr
+addhomezipcode
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+gethomecountry
+gettercopies
+unicodestr
+addhomecountry
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getworkaddress
+gettercopies
+unicodestr
+addworkaddress
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getworkaddress
+gettercopies
+unicodestr
+addworkaddress
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getworkcity
+gettercopies
+unicodestr
+addworkcity
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getworkstate
+gettercopies
+unicodestr
+addworkstate
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getworkzipcode
+gettercopies
+unicodestr
+addworkzipcode
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getworkcountry
+gettercopies
+unicodestr
+addworkcountry
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getjobtitle
+gettercopies
+unicodestr
+addjobtitle
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getdepartment
+gettercopies
+unicodestr
+adddepartment
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getcompany
+gettercopies
+unicodestr
+addcompany
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getaimscreenname
+gettercopies
+unicodestr
+addaimscreenname
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getanniversaryyear
+gettercopies
+unicodestr
+addanniversaryyear
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getanniversarymonth
+gettercopies
+unicodestr
+addanniversarymonth
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getanniversaryday
+gettercopies
+unicodestr
+addanniversaryday
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getspousename
+gettercopies
+unicodestr
+addspousename
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getfamilyname
+gettercopies
+unicodestr
+addfamilyname
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getdefaultaddress
+gettercopies
+unicodestr
+adddefaultaddress
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getcategory
+gettercopies
+unicodestr
+addcategory
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getwebpage
+gettercopies
+unicodestr
+addwebpage
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getwebpage
+gettercopies
+unicodestr
+addwebpage
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getbirthyear
+gettercopies
+unicodestr
+addbirthyear
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getbirthmonth
+gettercopies
+unicodestr
+addbirthmonth
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getbirthday
+gettercopies
+unicodestr
+addbirthday
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getcustom
+gettercopies
+unicodestr
+addcustom
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getcustom
+gettercopies
+unicodestr
+addcustom
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getcustom
+gettercopies
+unicodestr
+addcustom
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getcustom
+gettercopies
+unicodestr
+addcustom
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+card
+getnotes
+gettercopies
+unicodestr
+addnotes
+cardrow
+nsconvertucstoutf
+unicodestr
+get
+pruint
+lastmoddate
+card
+getlastmodifieddate
+lastmoddate
+addintcolumn
+cardrow
+mlastmoddatecolumntoken
+lastmoddate
+nsok
+nsimethodimp
+nsaddrdatabase
+createnewcardandaddtodb
+nsiabcard
+newcard
+prbool
+notify
+nscomptr
+nsimdbrow
+cardrow
+newcard
+mmdbpabtable
+nserrornullpointer
+nsresult
+rv
+getnewrow
+getteraddrefs
+cardrow
+nssucceeded
+rv
+cardrow
+addattributecolumnstorow
+newcard
+cardrow
+addrecordkeycolumntorow
+cardrow
+pruint
+key
+rv
+getintcolumn
+cardrow
+mrecordkeycolumntoken
+key
+nssucceeded
+rv
+nscomptr
+nsiabmdbcard
+dbnewcard
+doqueryinterface
+newcard
+dbnewcard
+dbnewcard
+setkey
+key
+mdberr
+merror
+mmdbpabtable
+addrow
+getenv
+cardrow
+merror
+nsok
+nserrorfailure
+rv
+notify
+notifycardentrychange
+abnotifyinserted
+newcard
+rv
+nsimethodimp
+nsaddrdatabase
+createnewcardandaddtodbwithkey
+nsiabcard
+newcard
+prbool
+notify
+pruint
+key
+nsresult
+err
+nsok
+key
+err
+createnewcardandaddtodb
+newcard
+notify
+nssucceeded
+err
+key
+mlastrecordkey
+err
+nsimethodimp
+nsaddrdatabase
+createnewlistcardandaddtodb
+nsiabdirectory
+alist
+pruint
+listrowid
+nsiabcard
+newcard
+prbool
+notify
+newcard
+mmdbpabtable
+nserrornullpointer
+nsimdbrow
+plistrow
+nsnull
+mdboid
+listrowoid
+listrowoid
+moidscope
+mlistrowscopetoken
+listrowoid
+moidid
+listrowid
+nsresult
+rv
+getstore
+getrow
+getenv
+listrowoid
+plistrow
+nsensuresuccess
+rv
+rv
+plistrow
+nsok
+nscomptr
+nsisupportsarray
+addresslist
+rv
+alist
+getaddresslists
+getteraddrefs
+addresslist
+nsensuresuccess
+rv
+rv
+pruint
+count
+addresslist
+count
+count
+nsxpidlstring
+newemail
+rv
+newcard
+getprimaryemail
+gettercopies
+newemail
+nsensuresuccess
+rv
+rv
+pruint
+count
+nscomptr
+nsiabcard
+currentcard
+doqueryelementat
+addresslist
+rv
+nsensuresuccess
+rv
+rv
+prbool
+equals
+rv
+newcard
+equals
+currentcard
+equals
+nsensuresuccess
+rv
+rv
+equals
+nsok
+nsxpidlstring
+currentemail
+rv
+currentcard
+getprimaryemail
+gettercopies
+currentemail
+nsensuresuccess
+rv
+rv
+nscrt
+strcmp
+newemail
+get
+currentemail
+get
+nsok
+pruint
+totaladdress
+getlistaddresstotal
+plistrow
+setlistaddresstotal
+plistrow
+totaladdress
+nscomptr
+nsiabcard
+pnewcard
+rv
+addlistcardcolumnstorow
+newcard
+plistrow
+totaladdress
+getteraddrefs
+pnewcard
+prtrue
+nsensuresuccess
+rv
+rv
+addresslist
+appendelement
+newcard
+notify
+notifycardentrychange
+abnotifyinserted
+newcard
+nsnull
+rv
+nsresult
+nsaddrdatabase
+addlistcardcolumnstorow
+nsiabcard
+pcard
+nsimdbrow
+plistrow
+pruint
+pos
+nsiabcard
+pnewcard
+prbool
+ainmailinglist
+pcard
+plistrow
+nserrornullpointer
+nsresult
+err
+nsok
+nsxpidlstring
+email
+pcard
+getprimaryemail
+gettercopies
+email
+email
+nsimdbrow
+pcardrow
+nsnull
+err
+getrowfromattribute
+kpriemailcolumn
+nsconvertucstoutf
+email
+get
+prfalse
+pcardrow
+prbool
+cardwasadded
+prfalse
+nsfailed
+err
+pcardrow
+err
+getnewrow
+pcardrow
+nssucceeded
+err
+pcardrow
+addprimaryemail
+pcardrow
+nsconvertucstoutf
+email
+get
+err
+mmdbpabtable
+addrow
+getenv
+pcardrow
+nssucceeded
+err
+addrecordkeycolumntorow
+pcardrow
+cardwasadded
+prtrue
+nsensuretrue
+pcardrow
+nserrornullpointer
+nsxpidlstring
+name
+pcard
+getdisplayname
+gettercopies
+name
+name
+isempty
+adddisplayname
+pcardrow
+nsconvertucstoutf
+name
+get
+err
+mmdbpabtable
+addrow
+getenv
+pcardrow
+nscomptr
+nsiabcard
+newcard
+createabcard
+pcardrow
+getteraddrefs
+newcard
+nsifaddref
+pnewcard
+newcard
+cardwasadded
+notifycardentrychange
+abnotifyinserted
+newcard
+nsnull
+ainmailinglist
+notifycardentrychange
+abnotifyinserted
+pcard
+nsnull
+notifycardentrychange
+abnotifypropertychanged
+pcard
+nsnull
+mdbtoken
+listaddresscolumntoken
+columnstr
+columnstrmax
+prsnprintf
+columnstr
+columnstrmax
+kmaillistaddressformat
+pos
+getstore
+stringtotoken
+getenv
+columnstr
+listaddresscolumntoken
+mdboid
+outoid
+pcardrow
+getoid
+getenv
+outoid
+nsok
+err
+addintcolumn
+plistrow
+listaddresscolumntoken
+outoid
+moidid
+nsrelease
+pcardrow
+nsok
+nsresult
+nsaddrdatabase
+addlistattributecolumnstorow
+nsiabdirectory
+list
+nsimdbrow
+listrow
+nsresult
+err
+nsok
+list
+listrow
+nserrornullpointer
+mdboid
+rowoid
+tableoid
+mmdbpabtable
+getoid
+getenv
+tableoid
+listrow
+getoid
+getenv
+rowoid
+nscomptr
+nsiabmdbdirectory
+dblist
+doqueryinterface
+list
+err
+nssucceeded
+err
+dblist
+setdbrowid
+rowoid
+moidid
+nssucceeded
+err
+listrow
+nsxpidlstring
+unicodestr
+list
+getdirname
+gettercopies
+unicodestr
+unicodestr
+addunicodetocolumn
+listrow
+mlistnamecolumntoken
+mlowerlistnamecolumntoken
+unicodestr
+list
+getlistnickname
+gettercopies
+unicodestr
+addlistnickname
+listrow
+nsconvertucstoutf
+unicodestr
+get
+list
+getdescription
+gettercopies
+unicodestr
+addlistdescription
+listrow
+nsconvertucstoutf
+unicodestr
+get
+nscomptr
+nsisupportsarray
+paddresslists
+list
+getaddresslists
+getteraddrefs
+paddresslists
+pruint
+count
+paddresslists
+count
+count
+nsxpidlstring
+email
+pruint
+total
+total
+count
+nscomptr
+nsiabcard
+pcard
+doqueryelementat
+paddresslists
+err
+nsfailed
+err
+pcard
+getprimaryemail
+gettercopies
+email
+print
+emaillength
+nscrt
+strlen
+email
+email
+emaillength
+total
+setlistaddresstotal
+listrow
+total
+pruint
+pos
+count
+nscomptr
+nsiabcard
+pcard
+doqueryelementat
+paddresslists
+err
+nsfailed
+err
+prbool
+listhascard
+prfalse
+err
+list
+hascard
+pcard
+listhascard
+pos
+pcard
+getprimaryemail
+gettercopies
+email
+print
+emaillength
+nscrt
+strlen
+email
+email
+emaillength
+nscomptr
+nsiabcard
+pnewcard
+err
+addlistcardcolumnstorow
+pcard
+listrow
+pos
+getteraddrefs
+pnewcard
+listhascard
+pnewcard
+paddresslists
+replaceelementat
+pnewcard
+nsok
+pruint
+nsaddrdatabase
+getlistaddresstotal
+nsimdbrow
+listrow
+pruint
+count
+getintcolumn
+listrow
+mlisttotalcolumntoken
+count
+count
+nsresult
+nsaddrdatabase
+setlistaddresstotal
+nsimdbrow
+listrow
+pruint
+total
+addintcolumn
+listrow
+mlisttotalcolumntoken
+total
+nsresult
+nsaddrdatabase
+getaddressrowbypos
+nsimdbrow
+listrow
+pruint
+pos
+nsimdbrow
+cardrow
+mdbtoken
+listaddresscolumntoken
+columnstr
+columnstrmax
+prsnprintf
+columnstr
+columnstrmax
+kmaillistaddressformat
+pos
+getstore
+stringtotoken
+getenv
+columnstr
+listaddresscolumntoken
+nsautostring
+tempstring
+mdbid
+rowid
+nsresult
+err
+getintcolumn
+listrow
+listaddresscolumntoken
+pruint
+rowid
+nssucceeded
+err
+err
+getcardrowbyrowid
+rowid
+cardrow
+err
+nserrorfailure
+nsimethodimp
+nsaddrdatabase
+createmaillistandaddtodb
+nsiabdirectory
+newlist
+prbool
+notify
+nsresult
+err
+nsok
+nsimdbrow
+listrow
+newlist
+mmdbpabtable
+nserrornullpointer
+err
+getnewlistrow
+listrow
+nssucceeded
+err
+listrow
+addlistattributecolumnstorow
+newlist
+listrow
+addrecordkeycolumntorow
+listrow
+mdberr
+merror
+mmdbpabtable
+addrow
+getenv
+listrow
+merror
+nsok
+nserrorfailure
+nscomptr
+nsiabcard
+listcard
+createablistcard
+listrow
+getteraddrefs
+listcard
+notifycardentrychange
+abnotifyinserted
+listcard
+nsrelease
+listrow
+nsok
+nserrorfailure
+nsaddrdatabase
+deletecardfromallmaillists
+mdbid
+cardrowid
+nsimdbtablerowcursor
+rowcursor
+mmdbpabtable
+gettablerowcursor
+getenv
+rowcursor
+rowcursor
+nsimdbrow
+plistrow
+nsnull
+mdbpos
+rowpos
+mdberr
+err
+rowcursor
+nextrow
+getenv
+plistrow
+rowpos
+err
+nsok
+plistrow
+mdboid
+rowoid
+plistrow
+getoid
+getenv
+rowoid
+nsok
+islistrowscopetoken
+rowoid
+moidscope
+deletecardfromlistrow
+plistrow
+cardrowid
+nsrelease
+plistrow
+plistrow
+rowcursor
+release
+nsimethodimp
+nsaddrdatabase
+deletecard
+nsiabcard
+card
+prbool
+notify
+card
+mmdbpabtable
+nserrornullpointer
+nsresult
+err
+nsok
+prbool
+bismaillist
+prfalse
+card
+getismaillist
+bismaillist
+nsimdbrow
+pcardrow
+nsnull
+mdboid
+rowoid
+bismaillist
+rowoid
+moidscope
+mlistrowscopetoken
+rowoid
+moidscope
+mcardrowscopetoken
+nscomptr
+nsiabmdbcard
+dbcard
+doqueryinterface
+card
+err
+nsensuresuccess
+err
+err
+dbcard
+getdbrowid
+pruint
+rowoid
+moidid
+err
+getstore
+getrow
+getenv
+rowoid
+pcardrow
+nsensuresuccess
+err
+err
+pcardrow
+nsok
+nscomptr
+nsimdbrow
+cardrow
+addrowtodeletedcardstable
+card
+getteraddrefs
+cardrow
+err
+deleterow
+mmdbpabtable
+pcardrow
+bismaillist
+deletecardfromallmaillists
+rowoid
+moidid
+nssucceeded
+err
+notify
+notifycardentrychange
+abnotifydeleted
+card
+deleterowfromdeletedcardstable
+cardrow
+nsrelease
+pcardrow
+nsok
+nsresult
+nsaddrdatabase
+deletecardfromlistrow
+nsimdbrow
+plistrow
+mdbid
+cardrowid
+nsensureargpointer
+plistrow
+nsresult
+err
+nsok
+pruint
+totaladdress
+getlistaddresstotal
+plistrow
+pruint
+pos
+pos
+pos
+totaladdress
+pos
+mdbtoken
+listaddresscolumntoken
+mdbid
+rowid
+columnstr
+columnstrmax
+prsnprintf
+columnstr
+columnstrmax
+kmaillistaddressformat
+pos
+getstore
+stringtotoken
+getenv
+columnstr
+listaddresscolumntoken
+err
+getintcolumn
+plistrow
+listaddresscolumntoken
+pruint
+rowid
+cardrowid
+rowid
+pos
+totaladdress
+err
+plistrow
+cutcolumn
+getenv
+listaddresscolumntoken
+mdbid
+lastrowid
+mdbtoken
+lastaddresscolumntoken
+prsnprintf
+columnstr
+columnstrmax
+kmaillistaddressformat
+totaladdress
+getstore
+stringtotoken
+getenv
+columnstr
+lastaddresscolumntoken
+err
+getintcolumn
+plistrow
+lastaddresscolumntoken
+pruint
+lastrowid
+err
+addintcolumn
+plistrow
+listaddresscolumntoken
+lastrowid
+err
+plistrow
+cutcolumn
+getenv
+lastaddresscolumntoken
+setlistaddresstotal
+plistrow
+totaladdress
+nsok
+nsimethodimp
+nsaddrdatabase
+deletecardfrommaillist
+nsiabdirectory
+maillist
+nsiabcard
+card
+prbool
+anotify
+card
+mmdbpabtable
+nserrornullpointer
+nsresult
+err
+nsok
+nsimdbrow
+plistrow
+nsnull
+mdboid
+listrowoid
+listrowoid
+moidscope
+mlistrowscopetoken
+nscomptr
+nsiabmdbdirectory
+dbmaillist
+doqueryinterface
+maillist
+err
+nsfailed
+err
+nserrornullpointer
+dbmaillist
+getdbrowid
+pruint
+listrowoid
+moidid
+err
+getstore
+getrow
+getenv
+listrowoid
+plistrow
+nsensuresuccess
+err
+err
+plistrow
+nsok
+pruint
+cardrowid
+nscomptr
+nsiabmdbcard
+dbcard
+doqueryinterface
+card
+err
+nsfailed
+err
+dbcard
+nserrornullpointer
+dbcard
+getdbrowid
+cardrowid
+err
+deletecardfromlistrow
+plistrow
+cardrowid
+nssucceeded
+err
+anotify
+notifycardentrychange
+abnotifydeleted
+card
+nsrelease
+plistrow
+nsok
+nsimethodimp
+nsaddrdatabase
+setcardvalue
+nsiabcard
+card
+name
+prunichar
+value
+prbool
+notify
+nsensureargpointer
+card
+nsensureargpointer
+name
+nsensureargpointer
+value
+nsresult
+rv
+nsok
+nscomptr
+nsimdbrow
+cardrow
+mdboid
+rowoid
+rowoid
+moidscope
+mcardrowscopetoken
+nscomptr
+nsiabmdbcard
+dbcard
+doqueryinterface
+card
+rv
+nsensuresuccess
+rv
+rv
+dbcard
+getdbrowid
+pruint
+rowoid
+moidid
+rv
+getstore
+getrow
+getenv
+rowoid
+getteraddrefs
+cardrow
+nsensuresuccess
+rv
+rv
+cardrow
+nsok
+mdbtoken
+token
+getstore
+stringtotoken
+getenv
+name
+token
+rv
+addcharstringcolumn
+cardrow
+token
+nsconvertucstoutf
+value
+get
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsaddrdatabase
+getcardvalue
+nsiabcard
+card
+name
+prunichar
+value
+nsresult
+rv
+nsok
+nscomptr
+nsimdbrow
+cardrow
+mdboid
+rowoid
+rowoid
+moidscope
+mcardrowscopetoken
+nscomptr
+nsiabmdbcard
+dbcard
+doqueryinterface
+card
+rv
+nsensuresuccess
+rv
+rv
+dbcard
+getdbrowid
+pruint
+rowoid
+moidid
+rv
+getstore
+getrow
+getenv
+rowoid
+getteraddrefs
+cardrow
+nsensuresuccess
+rv
+rv
+cardrow
+value
+nsnull
+nsok
+mdbtoken
+token
+getstore
+stringtotoken
+getenv
+name
+token
+nsautostring
+tempstring
+rv
+getstringcolumn
+cardrow
+token
+tempstring
+nsfailed
+rv
+value
+nsnull
+nsok
+value
+nscrt
+strdup
+tempstring
+get
+value
+nserroroutofmemory
+nsok
+nsimethodimp
+nsaddrdatabase
+getdeletedcardlist
+pruint
+acount
+nsisupportsarray
+adeletedlist
+nscomptr
+nsisupportsarray
+resultcardarray
+nsresult
+rv
+nsnewisupportsarray
+getteraddrefs
+resultcardarray
+nsfailed
+rv
+rv
+acount
+initdeletedcardstable
+prfalse
+mmdbdeletedcardstable
+nscomptr
+nsimdbtablerowcursor
+rowcursor
+mdbpos
+rowpos
+prbool
+done
+prfalse
+nscomptr
+nsimdbrow
+currentrow
+mmdbdeletedcardstable
+gettablerowcursor
+getenv
+getteraddrefs
+rowcursor
+rowcursor
+nserrorfailure
+done
+nsresult
+rv
+rowcursor
+nextrow
+getenv
+getteraddrefs
+currentrow
+rowpos
+currentrow
+nssucceeded
+rv
+mdboid
+rowoid
+currentrow
+getoid
+getenv
+rowoid
+nsok
+nscomptr
+nsiabcard
+card
+rv
+createcardfromdeletedcardstable
+currentrow
+getteraddrefs
+card
+nssucceeded
+rv
+acount
+resultcardarray
+appendelement
+card
+done
+prtrue
+acount
+nsifaddref
+adeletedlist
+resultcardarray
+nsok
+nsimethodimp
+nsaddrdatabase
+getdeletedcardcount
+pruint
+acount
+acount
+initdeletedcardstable
+prfalse
+mmdbdeletedcardstable
+mmdbdeletedcardstable
+getcount
+mmdbenv
+acount
+nsok
+nsimethodimp
+nsaddrdatabase
+purgedeletedcardtable
+mmdbdeletedcardstable
+mdbcount
+cardcount
+mmdbdeletedcardstable
+getcount
+mmdbenv
+cardcount
+cardcount
+purgecutoffcount
+nsok
+pruint
+purgetimeinsec
+prtimeseconds
+prnow
+purgetimeinsec
+purgetimeinsec
+nscomptr
+nsimdbtablerowcursor
+rowcursor
+nsresult
+rv
+mmdbdeletedcardstable
+gettablerowcursor
+getenv
+getteraddrefs
+rowcursor
+nssucceeded
+rv
+nscomptr
+nsimdbrow
+currentrow
+mdbpos
+rowpos
+rv
+rowcursor
+nextrow
+getenv
+getteraddrefs
+currentrow
+rowpos
+currentrow
+pruint
+deletedtimestamp
+getintcolumn
+currentrow
+mlastmoddatecolumntoken
+deletedtimestamp
+deletedtimestamp
+deletedtimestamp
+purgetimeinsec
+nssucceeded
+currentrow
+cutallcolumns
+getenv
+mmdbdeletedcardstable
+cutrow
+getenv
+currentrow
+nsok
+nsimethodimp
+nsaddrdatabase
+editcard
+nsiabcard
+card
+prbool
+notify
+card
+mmdbpabtable
+nserrornullpointer
+nsresult
+err
+nsok
+nscomptr
+nsimdbrow
+cardrow
+mdboid
+rowoid
+rowoid
+moidscope
+mcardrowscopetoken
+pruint
+nowinseconds
+prtime
+now
+prnow
+prtimeseconds
+now
+nowinseconds
+card
+setlastmodifieddate
+nowinseconds
+nscomptr
+nsiabmdbcard
+dbcard
+doqueryinterface
+card
+err
+nsensuresuccess
+err
+err
+dbcard
+getdbrowid
+pruint
+rowoid
+moidid
+err
+getstore
+getrow
+getenv
+rowoid
+getteraddrefs
+cardrow
+nsensuresuccess
+err
+err
+cardrow
+nsok
+err
+addattributecolumnstorow
+card
+cardrow
+nsensuresuccess
+err
+err
+notify
+notifycardentrychange
+abnotifypropertychanged
+card
+nsnull
+nsok
+nsimethodimp
+nsaddrdatabase
+containscard
+nsiabcard
+card
+prbool
+hascard
+card
+mmdbpabtable
+nserrornullpointer
+nsresult
+err
+nsok
+mdbbool
+hasoid
+mdboid
+rowoid
+prbool
+bismaillist
+card
+getismaillist
+bismaillist
+bismaillist
+rowoid
+moidscope
+mlistrowscopetoken
+rowoid
+moidscope
+mcardrowscopetoken
+nscomptr
+nsiabmdbcard
+dbcard
+doqueryinterface
+card
+err
+nsensuresuccess
+err
+err
+dbcard
+getdbrowid
+pruint
+rowoid
+moidid
+err
+mmdbpabtable
+hasoid
+getenv
+rowoid
+hasoid
+nssucceeded
+err
+hascard
+hasoid
+err
+nsimethodimp
+nsaddrdatabase
+deletemaillist
+nsiabdirectory
+maillist
+prbool
+notify
+maillist
+mmdbpabtable
+nserrornullpointer
+nsresult
+err
+nsok
+nsimdbrow
+plistrow
+nsnull
+mdboid
+rowoid
+rowoid
+moidscope
+mlistrowscopetoken
+nscomptr
+nsiabmdbdirectory
+dbmaillist
+doqueryinterface
+maillist
+err
+nsensuresuccess
+err
+err
+dbmaillist
+getdbrowid
+pruint
+rowoid
+moidid
+err
+getstore
+getrow
+getenv
+rowoid
+plistrow
+nsensuresuccess
+err
+err
+plistrow
+nsok
+err
+deleterow
+mmdbpabtable
+plistrow
+nsrelease
+plistrow
+err
+nsimethodimp
+nsaddrdatabase
+editmaillist
+nsiabdirectory
+maillist
+nsiabcard
+listcard
+prbool
+notify
+maillist
+mmdbpabtable
+nserrornullpointer
+nsresult
+err
+nsok
+nsimdbrow
+plistrow
+nsnull
+mdboid
+rowoid
+rowoid
+moidscope
+mlistrowscopetoken
+nscomptr
+nsiabmdbdirectory
+dbmaillist
+doqueryinterface
+maillist
+err
+nsensuresuccess
+err
+err
+dbmaillist
+getdbrowid
+pruint
+rowoid
+moidid
+err
+getstore
+getrow
+getenv
+rowoid
+plistrow
+nsensuresuccess
+err
+err
+plistrow
+nsok
+err
+addlistattributecolumnstorow
+maillist
+plistrow
+nsensuresuccess
+err
+err
+notify
+notifylistentrychange
+abnotifypropertychanged
+maillist
+nsnull
+listcard
+notifycardentrychange
+abnotifypropertychanged
+listcard
+nsnull
+nsrelease
+plistrow
+nsok
+nsimethodimp
+nsaddrdatabase
+containsmaillist
+nsiabdirectory
+maillist
+prbool
+haslist
+maillist
+mmdbpabtable
+nserrornullpointer
+mdberr
+err
+nsok
+mdbbool
+hasoid
+mdboid
+rowoid
+rowoid
+moidscope
+mlistrowscopetoken
+nscomptr
+nsiabmdbdirectory
+dbmaillist
+doqueryinterface
+maillist
+err
+nsensuresuccess
+err
+err
+dbmaillist
+getdbrowid
+pruint
+rowoid
+moidid
+err
+mmdbpabtable
+hasoid
+getenv
+rowoid
+hasoid
+err
+nsok
+haslist
+hasoid
+err
+nsok
+nsok
+nserrorfailure
+nsimethodimp
+nsaddrdatabase
+getnewrow
+nsimdbrow
+newrow
+mdberr
+err
+nsok
+nsimdbrow
+row
+nsnull
+err
+getstore
+newrow
+getenv
+mcardrowscopetoken
+row
+newrow
+row
+err
+nsok
+nsok
+nserrorfailure
+nsimethodimp
+nsaddrdatabase
+getnewlistrow
+nsimdbrow
+newrow
+mdberr
+err
+nsok
+nsimdbrow
+row
+nsnull
+err
+getstore
+newrow
+getenv
+mlistrowscopetoken
+row
+newrow
+row
+err
+nsok
+nsok
+nserrorfailure
+nsimethodimp
+nsaddrdatabase
+addcardrowtodb
+nsimdbrow
+newrow
+mmdbpabtable
+mdberr
+err
+nsok
+err
+mmdbpabtable
+addrow
+getenv
+newrow
+err
+nsok
+addrecordkeycolumntorow
+newrow
+nsok
+nserrorfailure
+nserrorfailure
+nsimethodimp
+nsaddrdatabase
+addldiflistmember
+nsimdbrow
+listrow
+value
+pruint
+total
+getlistaddresstotal
+listrow
+nscautostring
+valuestring
+value
+nscautostring
+email
+print
+emailpos
+valuestring
+find
+mail
+emailpos
+strlen
+mail
+valuestring
+right
+email
+valuestring
+length
+emailpos
+nscomptr
+nsimdbrow
+cardrow
+nsresult
+rv
+getrowfromattribute
+kpriemailcolumn
+email
+get
+prfalse
+getteraddrefs
+cardrow
+nssucceeded
+rv
+cardrow
+mdboid
+outoid
+mdbid
+rowid
+cardrow
+getoid
+getenv
+outoid
+nsok
+rowid
+outoid
+moidid
+total
+mdbtoken
+listaddresscolumntoken
+columnstr
+columnstrmax
+prsnprintf
+columnstr
+columnstrmax
+kmaillistaddressformat
+total
+getstore
+stringtotoken
+getenv
+columnstr
+listaddresscolumntoken
+rv
+addintcolumn
+listrow
+listaddresscolumntoken
+rowid
+setlistaddresstotal
+listrow
+total
+nsok
+nsaddrdatabase
+getcharstringyarn
+str
+mdbyarn
+stryarn
+stryarn
+myarngrow
+nsnull
+stryarn
+myarnbuf
+str
+stryarn
+myarnsize
+plstrlen
+stryarn
+myarnbuf
+stryarn
+myarnfill
+stryarn
+myarnsize
+stryarn
+myarnform
+nsaddrdatabase
+getstringyarn
+nsastring
+astr
+mdbyarn
+stryarn
+stryarn
+myarnbuf
+tonewutfstring
+astr
+stryarn
+myarnsize
+plstrlen
+stryarn
+myarnbuf
+stryarn
+myarnfill
+stryarn
+myarnsize
+stryarn
+myarnform
+nsaddrdatabase
+getintyarn
+pruint
+nvalue
+mdbyarn
+intyarn
+intyarn
+myarnfill
+intyarn
+myarnsize
+intyarn
+myarnform
+intyarn
+myarngrow
+nsnull
+prsnprintf
+intyarn
+myarnbuf
+intyarn
+myarnsize
+lx
+nvalue
+intyarn
+myarnfill
+plstrlen
+intyarn
+myarnbuf
+nsresult
+nsaddrdatabase
+addcharstringcolumn
+nsimdbrow
+cardrow
+mdbcolumn
+incolumn
+str
+mdbyarn
+yarn
+getcharstringyarn
+str
+yarn
+mdberr
+err
+cardrow
+addcolumn
+getenv
+incolumn
+yarn
+err
+nsok
+nsok
+nserrorfailure
+nsresult
+nsaddrdatabase
+addstringcolumn
+nsimdbrow
+acardrow
+mdbcolumn
+aincolumn
+nsastring
+astr
+mdbyarn
+yarn
+getstringyarn
+astr
+yarn
+mdberr
+err
+acardrow
+addcolumn
+getenv
+aincolumn
+yarn
+err
+nsok
+nsok
+nserrorfailure
+nsresult
+nsaddrdatabase
+addintcolumn
+nsimdbrow
+cardrow
+mdbcolumn
+incolumn
+pruint
+nvalue
+mdbyarn
+yarn
+yarnbuf
+yarn
+myarnbuf
+yarnbuf
+yarn
+myarnsize
+yarnbuf
+getintyarn
+nvalue
+yarn
+mdberr
+err
+cardrow
+addcolumn
+getenv
+incolumn
+yarn
+err
+nsok
+nsok
+nserrorfailure
+nsresult
+nsaddrdatabase
+addboolcolumn
+nsimdbrow
+cardrow
+mdbcolumn
+incolumn
+prbool
+bvalue
+mdbyarn
+yarn
+yarnbuf
+yarn
+myarnbuf
+yarnbuf
+yarn
+myarnsize
+yarnbuf
+bvalue
+getintyarn
+yarn
+getintyarn
+yarn
+mdberr
+err
+cardrow
+addcolumn
+getenv
+incolumn
+yarn
+err
+nsok
+nsok
+nserrorfailure
+nsresult
+nsaddrdatabase
+getstringcolumn
+nsimdbrow
+cardrow
+mdbtoken
+outtoken
+nsstring
+str
+nsresult
+err
+nserrorfailure
+nsimdbcell
+cardcell
+cardrow
+err
+cardrow
+getcell
+getenv
+outtoken
+cardcell
+err
+nsok
+cardcell
+mdbyarn
+yarn
+cardcell
+aliasyarn
+getenv
+yarn
+nsconvertutftoucs
+unistr
+yarn
+myarnbuf
+yarn
+myarnfill
+unistr
+isempty
+str
+assign
+unistr
+err
+nserrorfailure
+cardcell
+release
+err
+nserrorfailure
+err
+nsaddrdatabase
+yarntouint
+mdbyarn
+yarn
+pruint
+presult
+pruint
+result
+numchars
+yarn
+myarnbuf
+yarn
+myarnfill
+numchars
+numchars
+yarn
+myarnfill
+result
+numchars
+print
+unhex
+unhex
+result
+result
+unhex
+presult
+result
+nsresult
+nsaddrdatabase
+getintcolumn
+nsimdbrow
+cardrow
+mdbtoken
+outtoken
+pruint
+pvalue
+pruint
+defaultvalue
+nsresult
+err
+nserrorfailure
+nsimdbcell
+cardcell
+pvalue
+pvalue
+defaultvalue
+cardrow
+err
+cardrow
+getcell
+getenv
+outtoken
+cardcell
+err
+nsok
+cardcell
+mdbyarn
+yarn
+cardcell
+aliasyarn
+getenv
+yarn
+yarntouint
+yarn
+pvalue
+cardcell
+release
+err
+nserrorfailure
+err
+nsresult
+nsaddrdatabase
+getboolcolumn
+nsimdbrow
+cardrow
+mdbtoken
+outtoken
+prbool
+pvalue
+nsresult
+err
+nserrorfailure
+nsimdbcell
+cardcell
+pruint
+nvalue
+cardrow
+err
+cardrow
+getcell
+getenv
+outtoken
+cardcell
+err
+nsok
+cardcell
+mdbyarn
+yarn
+cardcell
+aliasyarn
+getenv
+yarn
+yarntouint
+yarn
+nvalue
+cardcell
+release
+err
+nserrorfailure
+nvalue
+pvalue
+prfalse
+pvalue
+prtrue
+err
+nsimethodimp
+nsaddrdatabase
+addprimaryemail
+nsimdbrow
+arow
+avalue
+nsensureargpointer
+avalue
+nsresult
+rv
+addcharstringcolumn
+arow
+mpriemailcolumntoken
+avalue
+nsensuresuccess
+rv
+rv
+rv
+addlowercasecolumn
+arow
+mlowerpriemailcolumntoken
+avalue
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsaddrdatabase
+addlistname
+nsimdbrow
+arow
+avalue
+nsensureargpointer
+avalue
+nsresult
+rv
+addcharstringcolumn
+arow
+mlistnamecolumntoken
+avalue
+nsensuresuccess
+rv
+rv
+rv
+addlowercasecolumn
+arow
+mlowerlistnamecolumntoken
+avalue
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsaddrdatabase
+addlowercasecolumn
+nsimdbrow
+row
+mdbtoken
+columntoken
+columnvalue
+nsresult
+rv
+nsok
+columnvalue
+nsconvertutftoucs
+newunicodestring
+columnvalue
+tolowercase
+newunicodestring
+rv
+addcharstringcolumn
+row
+columntoken
+nsconvertucstoutf
+newunicodestring
+get
+rv
+nsresult
+nsaddrdatabase
+getcardfromdb
+nsiabcard
+newcard
+nsimdbrow
+cardrow
+nsresult
+err
+nsok
+newcard
+cardrow
+nserrornullpointer
+nsautostring
+tempstring
+err
+getstringcolumn
+cardrow
+mfirstnamecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setfirstname
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mlastnamecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setlastname
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mphoneticfirstnamecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setphoneticfirstname
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mphoneticlastnamecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setphoneticlastname
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mdisplaynamecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setdisplayname
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mnicknamecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setnickname
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mpriemailcolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setprimaryemail
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mndemailcolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setsecondemail
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mdefaultemailcolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setdefaultemail
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mcardtypecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setcardtype
+tempstring
+get
+pruint
+format
+nsiabprefermailformat
+unknown
+err
+getintcolumn
+cardrow
+mmailformatcolumntoken
+format
+nssucceeded
+err
+newcard
+setprefermailformat
+format
+err
+getstringcolumn
+cardrow
+mworkphonecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setworkphone
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mhomephonecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+sethomephone
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mfaxcolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setfaxnumber
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mpagercolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setpagernumber
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mcellularcolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setcellularnumber
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mworkphonetypecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setworkphonetype
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mhomephonetypecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+sethomephonetype
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mfaxtypecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setfaxnumbertype
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mpagertypecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setpagernumbertype
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mcellulartypecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setcellularnumbertype
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mhomeaddresscolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+sethomeaddress
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mhomeaddresscolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+sethomeaddress
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mhomecitycolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+sethomecity
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mhomestatecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+sethomestate
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mhomezipcodecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+sethomezipcode
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mhomecountrycolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+sethomecountry
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mworkaddresscolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setworkaddress
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mworkaddresscolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setworkaddress
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mworkcitycolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setworkcity
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mworkstatecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setworkstate
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mworkzipcodecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setworkzipcode
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mworkcountrycolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setworkcountry
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mjobtitlecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setjobtitle
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mdepartmentcolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setdepartment
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mcompanycolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setcompany
+tempstring
+get
+err
+getstringcolumn
+cardrow
+maimscreennamecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setaimscreenname
+tempstring
+get
+err
+getstringcolumn
+cardrow
+manniversaryyearcolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setanniversaryyear
+tempstring
+get
+err
+getstringcolumn
+cardrow
+manniversarymonthcolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setanniversarymonth
+tempstring
+get
+err
+getstringcolumn
+cardrow
+manniversarydaycolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setanniversaryday
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mspousenamecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setspousename
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mfamilynamecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setfamilyname
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mdefaultaddresscolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setdefaultaddress
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mcategorycolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setcategory
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mwebpagecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setwebpage
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mwebpagecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setwebpage
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mbirthyearcolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setbirthyear
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mbirthmonthcolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setbirthmonth
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mbirthdaycolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setbirthday
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mcustomcolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setcustom
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mcustomcolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setcustom
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mcustomcolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setcustom
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mcustomcolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setcustom
+tempstring
+get
+err
+getstringcolumn
+cardrow
+mnotescolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newcard
+setnotes
+tempstring
+get
+pruint
+lastmoddate
+err
+getintcolumn
+cardrow
+mlastmoddatecolumntoken
+lastmoddate
+nssucceeded
+err
+newcard
+setlastmodifieddate
+lastmoddate
+pruint
+key
+err
+getintcolumn
+cardrow
+mrecordkeycolumntoken
+key
+nssucceeded
+err
+nscomptr
+nsiabmdbcard
+dbnewcard
+doqueryinterface
+newcard
+err
+nssucceeded
+err
+dbnewcard
+dbnewcard
+setkey
+key
+err
+nsresult
+nsaddrdatabase
+getlistcardfromdb
+nsiabcard
+listcard
+nsimdbrow
+listrow
+nsresult
+err
+nsok
+listcard
+listrow
+nserrornullpointer
+nsautostring
+tempstring
+err
+getstringcolumn
+listrow
+mlistnamecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+listcard
+setdisplayname
+tempstring
+get
+listcard
+setlastname
+tempstring
+get
+err
+getstringcolumn
+listrow
+mlistnicknamecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+listcard
+setnickname
+tempstring
+get
+err
+getstringcolumn
+listrow
+mlistdescriptioncolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+listcard
+setnotes
+tempstring
+get
+pruint
+key
+err
+getintcolumn
+listrow
+mrecordkeycolumntoken
+key
+nssucceeded
+err
+nscomptr
+nsiabmdbcard
+dblistcard
+doqueryinterface
+listcard
+err
+nssucceeded
+err
+dblistcard
+dblistcard
+setkey
+key
+err
+nsresult
+nsaddrdatabase
+getlistfromdb
+nsiabdirectory
+newlist
+nsimdbrow
+listrow
+nsresult
+err
+nsok
+newlist
+listrow
+nserrornullpointer
+nsautostring
+tempstring
+err
+getstringcolumn
+listrow
+mlistnamecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newlist
+setdirname
+tempstring
+get
+err
+getstringcolumn
+listrow
+mlistnicknamecolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newlist
+setlistnickname
+tempstring
+get
+err
+getstringcolumn
+listrow
+mlistdescriptioncolumntoken
+tempstring
+nssucceeded
+err
+tempstring
+isempty
+newlist
+setdescription
+tempstring
+get
+pruint
+totaladdress
+getlistaddresstotal
+listrow
+pruint
+pos
+pos
+pos
+totaladdress
+pos
+mdbtoken
+listaddresscolumntoken
+mdbid
+rowid
+columnstr
+columnstrmax
+prsnprintf
+columnstr
+columnstrmax
+kmaillistaddressformat
+pos
+getstore
+stringtotoken
+getenv
+columnstr
+listaddresscolumntoken
+nscomptr
+nsimdbrow
+cardrow
+err
+getintcolumn
+listrow
+listaddresscolumntoken
+pruint
+rowid
+err
+getcardrowbyrowid
+rowid
+getteraddrefs
+cardrow
+cardrow
+nscomptr
+nsiabcard
+card
+err
+createabcard
+cardrow
+getteraddrefs
+card
+nscomptr
+nsiabmdbdirectory
+dbnewlist
+doqueryinterface
+newlist
+err
+nssucceeded
+err
+dbnewlist
+addaddresstolist
+card
+err
+nsaddrdbenumerator
+nsienumerator
+nsdeclisupports
+nsdeclnsienumerator
+nsaddrdbenumerator
+nsaddrdatabase
+db
+nsaddrdbenumerator
+nscomptr
+nsaddrdatabase
+mdb
+nscomptr
+nsiabdirectory
+mresultlist
+nscomptr
+nsiabcard
+mresultcard
+nsimdbtable
+mdbtable
+nsimdbtablerowcursor
+mrowcursor
+nsimdbrow
+mcurrentrow
+mdbpos
+mrowpos
+prbool
+mdone
+prbool
+mcurrentrowislist
+nsaddrdbenumerator
+nsaddrdbenumerator
+nsaddrdatabase
+db
+mdb
+db
+mrowcursor
+nsnull
+mcurrentrow
+nsnull
+mdone
+prfalse
+mdbtable
+mdb
+getpabtable
+mcurrentrowislist
+prfalse
+nsaddrdbenumerator
+nsaddrdbenumerator
+nsifrelease
+mrowcursor
+nsimplisupports
+nsaddrdbenumerator
+nsienumerator
+nsimethodimp
+nsaddrdbenumerator
+first
+nsresult
+rv
+mdone
+prfalse
+mdb
+mdbtable
+mdb
+getenv
+nserrornullpointer
+mdbtable
+gettablerowcursor
+mdb
+getenv
+mrowcursor
+rv
+nsok
+nserrorfailure
+next
+nsimethodimp
+nsaddrdbenumerator
+next
+mrowcursor
+mdone
+prtrue
+nserrorfailure
+nsifrelease
+mcurrentrow
+nsresult
+rv
+mrowcursor
+nextrow
+mdb
+getenv
+mcurrentrow
+mrowpos
+mcurrentrow
+nssucceeded
+rv
+mdboid
+rowoid
+mcurrentrow
+getoid
+mdb
+getenv
+rowoid
+nsok
+mdb
+islistrowscopetoken
+rowoid
+moidscope
+mcurrentrowislist
+prtrue
+nsok
+mdb
+iscardrowscopetoken
+rowoid
+moidscope
+mcurrentrowislist
+prfalse
+nsok
+mdb
+isdatarowscopetoken
+rowoid
+moidscope
+next
+nserrorfailure
+mcurrentrow
+mdone
+prtrue
+nserrornullpointer
+nsfailed
+rv
+mdone
+prtrue
+nserrorfailure
+nserrorfailure
+nsimethodimp
+nsaddrdbenumerator
+currentitem
+nsisupports
+aitem
+mcurrentrow
+nsresult
+rv
+mcurrentrowislist
+rv
+mdb
+createablistcard
+mcurrentrow
+getteraddrefs
+mresultcard
+aitem
+mresultcard
+rv
+mdb
+createabcard
+mcurrentrow
+getteraddrefs
+mresultcard
+aitem
+mresultcard
+nsifaddref
+aitem
+nsok
+nserrorfailure
+nsimethodimp
+nsaddrdbenumerator
+isdone
+mdone
+nsok
+nserrorfailure
+nslistaddressenumerator
+nsienumerator
+nsdeclisupports
+nsdeclnsienumerator
+nslistaddressenumerator
+nsaddrdatabase
+db
+mdbid
+rowid
+nslistaddressenumerator
+nscomptr
+nsaddrdatabase
+mdb
+nscomptr
+nsiabcard
+mresultcard
+nsimdbtable
+mdbtable
+nsimdbrow
+mlistrow
+nsimdbrow
+mcurrentrow
+mdbid
+mlistrowid
+prbool
+mdone
+pruint
+maddresstotal
+pruint
+maddresspos
+nslistaddressenumerator
+nslistaddressenumerator
+nsaddrdatabase
+db
+mdbid
+rowid
+mdb
+db
+mcurrentrow
+nsnull
+mlistrowid
+rowid
+mdone
+prfalse
+mdbtable
+mdb
+getpabtable
+mdb
+getlistrowbyrowid
+mlistrowid
+mlistrow
+maddresstotal
+mdb
+getlistaddresstotal
+mlistrow
+maddresspos
+nslistaddressenumerator
+nslistaddressenumerator
+nsifrelease
+mlistrow
+nsimplisupports
+nslistaddressenumerator
+nsienumerator
+nsimethodimp
+nslistaddressenumerator
+first
+mdone
+prfalse
+mdb
+mdbtable
+mdb
+getenv
+nserrornullpointer
+maddresstotal
+next
+nserrorfailure
+nsimethodimp
+nslistaddressenumerator
+next
+mcurrentrow
+nsrelease
+mcurrentrow
+mcurrentrow
+nsnull
+maddresspos
+maddresspos
+maddresstotal
+nsresult
+err
+err
+mdb
+getaddressrowbypos
+mlistrow
+maddresspos
+mcurrentrow
+mcurrentrow
+nsok
+mdone
+prtrue
+nserrorfailure
+mdone
+prtrue
+nserrorfailure
+nsimethodimp
+nslistaddressenumerator
+currentitem
+nsisupports
+aitem
+mcurrentrow
+nsresult
+rv
+rv
+mdb
+createabcard
+mcurrentrow
+mlistrowid
+getteraddrefs
+mresultcard
+nsifaddref
+aitem
+mresultcard
+nsok
+nserrorfailure
+nsimethodimp
+nslistaddressenumerator
+isdone
+mdone
+nsok
+nserrorfailure
+nsaddrdatabase
+prtimeseconds
+prtime
+prtime
+pruint
+seconds
+print
+microsecondspersecond
+intermediateresult
+llil
+microsecondspersecond
+prusecpersec
+lldiv
+intermediateresult
+prtime
+microsecondspersecond
+lllui
+seconds
+intermediateresult
+nsimethodimp
+nsaddrdatabase
+enumeratecards
+nsiabdirectory
+directory
+nsienumerator
+result
+nsaddrdbenumerator
+nsaddrdbenumerator
+mdbdirectory
+directory
+nserroroutofmemory
+nsaddref
+result
+nsok
+nsimethodimp
+nsaddrdatabase
+getmailinglistsfromdb
+nsiabdirectory
+parentdir
+nscomptr
+nsiabdirectory
+resultlist
+nsimdbtable
+dbtable
+nsnull
+nsimdbtablerowcursor
+rowcursor
+nsnull
+nscomptr
+nsimdbrow
+currentrow
+mdbpos
+rowpos
+prbool
+done
+prfalse
+mdbdirectory
+parentdir
+dbtable
+getpabtable
+dbtable
+nserrorfailure
+dbtable
+gettablerowcursor
+getenv
+rowcursor
+rowcursor
+nserrorfailure
+done
+nsresult
+rv
+rowcursor
+nextrow
+getenv
+getteraddrefs
+currentrow
+rowpos
+currentrow
+nssucceeded
+rv
+mdboid
+rowoid
+currentrow
+getoid
+getenv
+rowoid
+nsok
+islistrowscopetoken
+rowoid
+moidscope
+rv
+createablist
+currentrow
+getteraddrefs
+resultlist
+done
+prtrue
+nsifrelease
+rowcursor
+nsok
+nsimethodimp
+nsaddrdatabase
+enumeratelistaddresses
+nsiabdirectory
+directory
+nsienumerator
+result
+nsresult
+rv
+nsok
+mdbid
+rowid
+nscomptr
+nsiabmdbdirectory
+dbdirectory
+doqueryinterface
+directory
+rv
+nssucceeded
+rv
+dbdirectory
+getdbrowid
+pruint
+rowid
+nslistaddressenumerator
+nslistaddressenumerator
+rowid
+mdbdirectory
+directory
+nserroroutofmemory
+nsaddref
+result
+rv
+nsresult
+nsaddrdatabase
+createcardfromdeletedcardstable
+nsimdbrow
+cardrow
+mdbid
+listrowid
+nsiabcard
+result
+nsresult
+rv
+nsok
+mdboid
+outoid
+mdbid
+rowid
+cardrow
+getoid
+getenv
+outoid
+nsok
+rowid
+outoid
+moidid
+nssucceeded
+rv
+nscomptr
+nsiabcard
+personcard
+personcard
+docreateinstance
+nsabmdbcardcontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabmdbcard
+dbpersoncard
+doqueryinterface
+personcard
+rv
+nssucceeded
+rv
+dbpersoncard
+getcardfromdb
+personcard
+cardrow
+mdboid
+tableoid
+mmdbdeletedcardstable
+getoid
+getenv
+tableoid
+dbpersoncard
+setdbtableid
+tableoid
+moidid
+dbpersoncard
+setdbrowid
+rowid
+dbpersoncard
+setabdatabase
+nsifaddref
+result
+personcard
+rv
+nsresult
+nsaddrdatabase
+createcard
+nsimdbrow
+cardrow
+mdbid
+listrowid
+nsiabcard
+result
+nsresult
+rv
+nsok
+mdboid
+outoid
+mdbid
+rowid
+cardrow
+getoid
+getenv
+outoid
+nsok
+rowid
+outoid
+moidid
+nssucceeded
+rv
+nscomptr
+nsiabcard
+personcard
+personcard
+docreateinstance
+nsabmdbcardcontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabmdbcard
+dbpersoncard
+doqueryinterface
+personcard
+rv
+nssucceeded
+rv
+dbpersoncard
+getcardfromdb
+personcard
+cardrow
+mdboid
+tableoid
+mmdbpabtable
+getoid
+getenv
+tableoid
+dbpersoncard
+setdbtableid
+tableoid
+moidid
+dbpersoncard
+setdbrowid
+rowid
+dbpersoncard
+setabdatabase
+nsifaddref
+result
+personcard
+rv
+nsresult
+nsaddrdatabase
+createabcard
+nsimdbrow
+cardrow
+mdbid
+listrowid
+nsiabcard
+result
+createcard
+cardrow
+listrowid
+result
+nsresult
+nsaddrdatabase
+createablistcard
+nsimdbrow
+listrow
+nsiabcard
+result
+nsresult
+rv
+nsok
+mdboid
+outoid
+mdbid
+rowid
+listrow
+getoid
+getenv
+outoid
+nsok
+rowid
+outoid
+moidid
+listuri
+nsnull
+file
+nsnull
+file
+mdbname
+getleafname
+listuri
+prsmprintf
+maillist
+ld
+kmdbdirectoryroot
+file
+rowid
+nscomptr
+nsiabcard
+personcard
+nscomptr
+nsiabmdbdirectory
+dbmdbdirectory
+doqueryinterface
+mdbdirectory
+rv
+nssucceeded
+rv
+dbmdbdirectory
+personcard
+docreateinstance
+nsabmdbcardcontractid
+rv
+nsensuresuccess
+rv
+rv
+personcard
+getlistcardfromdb
+personcard
+listrow
+mdboid
+tableoid
+mmdbpabtable
+getoid
+getenv
+tableoid
+nscomptr
+nsiabmdbcard
+dbpersoncard
+doqueryinterface
+personcard
+rv
+nssucceeded
+rv
+dbpersoncard
+dbpersoncard
+setdbtableid
+tableoid
+moidid
+dbpersoncard
+setdbrowid
+rowid
+dbpersoncard
+setabdatabase
+personcard
+setismaillist
+prtrue
+personcard
+setmaillisturi
+listuri
+nsifaddref
+result
+personcard
+file
+nscrt
+free
+file
+listuri
+prsmprintffree
+listuri
+rv
+nsresult
+nsaddrdatabase
+createablist
+nsimdbrow
+listrow
+nsiabdirectory
+result
+nsresult
+rv
+nsok
+listrow
+nserrornullpointer
+mdboid
+outoid
+mdbid
+rowid
+listrow
+getoid
+getenv
+outoid
+nsok
+rowid
+outoid
+moidid
+listuri
+nsnull
+file
+nsnull
+file
+mdbname
+getleafname
+listuri
+prsmprintf
+maillist
+ld
+kmdbdirectoryroot
+file
+rowid
+nscomptr
+nsiabdirectory
+maillist
+nscomptr
+nsiabmdbdirectory
+dbmdbdirectory
+doqueryinterface
+mdbdirectory
+rv
+nssucceeded
+rv
+dbmdbdirectory
+rv
+dbmdbdirectory
+adddirectory
+listuri
+getteraddrefs
+maillist
+nscomptr
+nsiabmdbdirectory
+dbmaillist
+doqueryinterface
+maillist
+rv
+maillist
+mdbid
+existingid
+dbmaillist
+getdbrowid
+existingid
+existingid
+rowid
+getlistfromdb
+maillist
+listrow
+dbmaillist
+setdbrowid
+rowid
+maillist
+setismaillist
+prtrue
+dbmdbdirectory
+addmaillisttodirectory
+maillist
+nsifaddref
+result
+maillist
+file
+nscrt
+free
+file
+listuri
+prsmprintffree
+listuri
+rv
+nsresult
+nsaddrdatabase
+getcardrowbyrowid
+mdbid
+rowid
+nsimdbrow
+dbrow
+mdboid
+rowoid
+rowoid
+moidscope
+mcardrowscopetoken
+rowoid
+moidid
+rowid
+getstore
+getrow
+getenv
+rowoid
+dbrow
+nsresult
+nsaddrdatabase
+getlistrowbyrowid
+mdbid
+rowid
+nsimdbrow
+dbrow
+mdboid
+rowoid
+rowoid
+moidscope
+mlistrowscopetoken
+rowoid
+moidid
+rowid
+getstore
+getrow
+getenv
+rowoid
+dbrow
+nsresult
+nsaddrdatabase
+getrowfromattribute
+aname
+autfvalue
+prbool
+acaseinsensitive
+nsimdbrow
+acardrow
+nsensureargpointer
+aname
+nsensureargpointer
+autfvalue
+nsensureargpointer
+acardrow
+mdbtoken
+token
+getstore
+stringtotoken
+getenv
+aname
+token
+nsconvertutftoucs
+newunicodestring
+autfvalue
+acaseinsensitive
+tolowercase
+newunicodestring
+getrowforcharcolumn
+newunicodestring
+get
+token
+prtrue
+acardrow
+nsimethodimp
+nsaddrdatabase
+getcardfromattribute
+nsiabdirectory
+adirectory
+aname
+autfvalue
+prbool
+acaseinsensitive
+nsiabcard
+acardresult
+nsensureargpointer
+acardresult
+mdbdirectory
+adirectory
+nscomptr
+nsimdbrow
+cardrow
+nsresult
+rv
+getrowfromattribute
+aname
+autfvalue
+acaseinsensitive
+getteraddrefs
+cardrow
+nssucceeded
+rv
+cardrow
+rv
+createabcard
+cardrow
+acardresult
+acardresult
+nsnull
+rv
+nsok
+rv
+nsimethodimp
+nsaddrdatabase
+addrowvalue
+nsimdbrow
+arow
+nsacstring
+aldifattributename
+nsastring
+acolvalue
+print
+exportattributestablecount
+nscrt
+strcasecmp
+exportattributestable
+ldappropertyname
+promiseflatcstring
+aldifattributename
+get
+mdbtoken
+token
+getstore
+stringtotoken
+getenv
+exportattributestable
+abcolname
+token
+nsresult
+rv
+addstringcolumn
+arow
+token
+acolvalue
+nsensuresuccess
+rv
+rv
+nsok
+nsassertion
+failed
+to
+map
+ldif
+attribute
+to
+column
+nserrorfailure
+nsimethodimp
+nsaddrdatabase
+getdirectoryname
+prunichar
+name
+mdbdirectory
+name
+mdbdirectory
+getdirname
+name
+nserrorfailure
+nsimethodimp
+nsaddrdatabase
+addlistdirnode
+nsimdbrow
+listrow
+nsresult
+rv
+nsok
+nscomptr
+nsiproxyobjectmanager
+proxymgr
+dogetservice
+nsxpcomproxycontractid
+rv
+nsensuresuccess
+rv
+rv
+nsdefinecid
+krdfservicecid
+nsrdfservicecid
+nswithproxiedservice
+nsirdfservice
+rdfservice
+krdfservicecid
+nsuithreadeventq
+rv
+nssucceeded
+rv
+nscomptr
+nsirdfresource
+parentresource
+file
+mdbname
+getleafname
+parenturi
+prsmprintf
+kmdbdirectoryroot
+file
+rv
+rdfservice
+getresource
+nsdependentcstring
+parenturi
+getteraddrefs
+parentresource
+nscomptr
+nsiabdirectory
+parentdir
+rv
+proxymgr
+getproxyforobject
+nsuithreadeventq
+nsgetiid
+nsiabdirectory
+parentresource
+proxysync
+proxyalways
+getteraddrefs
+parentdir
+parentdir
+mdbdirectory
+parentdir
+nscomptr
+nsiabdirectory
+maillist
+rv
+createablist
+listrow
+getteraddrefs
+maillist
+maillist
+nscomptr
+nsiabmdbdirectory
+dbparentdir
+doqueryinterface
+parentdir
+rv
+nssucceeded
+rv
+dbparentdir
+notifydiritemadded
+maillist
+parenturi
+prsmprintffree
+parenturi
+file
+nscrt
+free
+file
+rv
+nsimethodimp
+nsaddrdatabase
+findmaillistbyunicodename
+prunichar
+listname
+prbool
+exist
+nsautostring
+unicodestring
+listname
+tolowercase
+unicodestring
+nscomptr
+nsimdbrow
+listrow
+nsresult
+rv
+getrowforcharcolumn
+unicodestring
+get
+mlowerlistnamecolumntoken
+prfalse
+getteraddrefs
+listrow
+exist
+nssucceeded
+rv
+listrow
+rv
+nsimethodimp
+nsaddrdatabase
+getcardcount
+pruint
+count
+mdberr
+rv
+mdbcount
+rv
+mmdbpabtable
+getcount
+mmdbenv
+rv
+nsok
+count
+rv
+prbool
+nsaddrdatabase
+hasrowbutdeletedforcharcolumn
+prunichar
+unicodestr
+mdbcolumn
+findcolumn
+prbool
+aiscard
+nsimdbrow
+afindrow
+mdbyarn
+sourceyarn
+nsconvertucstoutf
+utfstring
+unicodestr
+sourceyarn
+myarnbuf
+utfstring
+get
+sourceyarn
+myarnfill
+utfstring
+length
+sourceyarn
+myarnform
+sourceyarn
+myarnsize
+sourceyarn
+myarnfill
+mdboid
+outrowid
+nsimdbstore
+store
+getstore
+nsimdbenv
+env
+getenv
+nsresult
+rv
+aiscard
+rv
+store
+findrow
+env
+mcardrowscopetoken
+findcolumn
+sourceyarn
+outrowid
+afindrow
+nssucceeded
+rv
+afindrow
+prfalse
+mmdbdeletedcardstable
+rv
+initdeletedcardstable
+prfalse
+mmdbdeletedcardstable
+prtrue
+mdbbool
+hasrow
+prfalse
+rv
+mmdbdeletedcardstable
+hasrow
+env
+afindrow
+hasrow
+nssucceeded
+rv
+hasrow
+rv
+store
+findrow
+env
+mlistrowscopetoken
+findcolumn
+sourceyarn
+outrowid
+afindrow
+nssucceeded
+rv
+afindrow
+nsresult
+nsaddrdatabase
+getrowforcharcolumn
+prunichar
+unicodestr
+mdbcolumn
+findcolumn
+prbool
+aiscard
+nsimdbrow
+afindrow
+nsensureargpointer
+unicodestr
+nsensureargpointer
+afindrow
+afindrow
+nsnull
+hasrowbutdeletedforcharcolumn
+unicodestr
+findcolumn
+aiscard
+afindrow
+afindrow
+nsok
+nserrorfailure
+nscomptr
+nsimdbtablerowcursor
+rowcursor
+mdbpos
+rowpos
+prbool
+done
+prfalse
+nscomptr
+nsimdbrow
+currentrow
+nsautostring
+columnvalue
+mdbscope
+targetscope
+aiscard
+mcardrowscopetoken
+mlistrowscopetoken
+mmdbpabtable
+gettablerowcursor
+getenv
+getteraddrefs
+rowcursor
+rowcursor
+nserrorfailure
+done
+nsresult
+rv
+rowcursor
+nextrow
+getenv
+getteraddrefs
+currentrow
+rowpos
+currentrow
+nssucceeded
+rv
+mdboid
+rowoid
+currentrow
+getoid
+getenv
+rowoid
+nsok
+rowoid
+moidscope
+targetscope
+rv
+getstringcolumn
+currentrow
+findcolumn
+columnvalue
+nssucceeded
+rv
+columnvalue
+equals
+unicodestr
+nsifaddref
+afindrow
+currentrow
+nsok
+done
+prtrue
+nserrorfailure
+nsresult
+nsaddrdatabase
+deleterow
+nsimdbtable
+dbtable
+nsimdbrow
+dbrow
+mdberr
+err
+nsok
+err
+dbrow
+cutallcolumns
+getenv
+err
+dbtable
+cutrow
+getenv
+dbrow
+err
+nsok
+nsok
+nserrorfailure
+nsimethodimp
+nsaddrdatabase
+createmaillistandaddtodbwithkey
+nsiabdirectory
+newlist
+prbool
+notify
+pruint
+key
+nsensureargpointer
+key
+key
+nsresult
+rv
+rv
+createmaillistandaddtodb
+newlist
+notify
+nssucceeded
+rv
+key
+mlastrecordkey
+rv
\ No newline at end of file
@@ -0,0 +1,253 @@
+nsmapiaddressbook
+nsabutils
+nsautolock
+prlog
+ifdef
+prlogging
+prlogmoduleinfo
+gmapiaddressbooklog
+prnewlogmodule
+nsmapiaddressbooklog
+endif
+define
+printf
+args
+prlog
+gmapiaddressbooklog
+prlogdebug
+args
+hmodule
+nsmapiaddressbook
+mlibrary
+print
+nsmapiaddressbook
+mlibusage
+lpmapiinitialize
+nsmapiaddressbook
+mmapiinitialize
+lpmapiuninitialize
+nsmapiaddressbook
+mmapiuninitialize
+lpmapiallocatebuffer
+nsmapiaddressbook
+mmapiallocatebuffer
+lpmapifreebuffer
+nsmapiaddressbook
+mmapifreebuffer
+lpmapilogonex
+nsmapiaddressbook
+mmapilogonex
+bool
+nsmapiaddressbook
+minitialized
+false
+bool
+nsmapiaddressbook
+mlogondone
+false
+lpmapisession
+nsmapiaddressbook
+mrootsession
+lpadrbook
+nsmapiaddressbook
+mrootbook
+bool
+nsmapiaddressbook
+loadmapilibrary
+mlibrary
+mlibusage
+true
+hmodule
+libraryhandle
+loadlibrary
+mapi
+dll
+libraryhandle
+false
+farproc
+entrypoint
+getprocaddress
+libraryhandle
+mapigetnetscapeversion
+entrypoint
+freelibrary
+libraryhandle
+libraryhandle
+loadlibrary
+mapibak
+dll
+libraryhandle
+false
+mlibrary
+libraryhandle
+mlibusage
+mmapiinitialize
+nsreinterpretcast
+lpmapiinitialize
+getprocaddress
+mlibrary
+mapiinitialize
+mmapiinitialize
+false
+mmapiuninitialize
+nsreinterpretcast
+lpmapiuninitialize
+getprocaddress
+mlibrary
+mapiuninitialize
+mmapiuninitialize
+false
+mmapiallocatebuffer
+nsreinterpretcast
+lpmapiallocatebuffer
+getprocaddress
+mlibrary
+mapiallocatebuffer
+mmapiallocatebuffer
+false
+mmapifreebuffer
+nsreinterpretcast
+lpmapifreebuffer
+getprocaddress
+mlibrary
+mapifreebuffer
+mmapifreebuffer
+false
+mmapilogonex
+nsreinterpretcast
+lpmapilogonex
+getprocaddress
+mlibrary
+mapilogonex
+mmapilogonex
+false
+mapiinit
+mapiinit
+mapiinitversion
+mapimultithreadnotifications
+hresult
+retcode
+mmapiinitialize
+mapiinit
+hrfailed
+retcode
+printf
+cannot
+initialize
+mapi
+retcode
+false
+minitialized
+true
+retcode
+mmapilogonex
+mapinomail
+mapiusedefault
+mapiextended
+mapinewsession
+mrootsession
+hrfailed
+retcode
+printf
+cannot
+logon
+to
+mapi
+retcode
+false
+mlogondone
+true
+retcode
+mrootsession
+openaddressbook
+mrootbook
+hrfailed
+retcode
+printf
+cannot
+open
+mapi
+address
+book
+retcode
+hrsucceeded
+retcode
+nsmapiaddressbook
+freemapilibrary
+mlibrary
+mlibusage
+mrootbook
+mrootbook
+release
+mrootsession
+mlogondone
+mrootsession
+logoff
+mlogondone
+false
+mrootsession
+release
+minitialized
+mmapiuninitialize
+minitialized
+false
+freelibrary
+mlibrary
+mlibrary
+mozdeclctorcounter
+nsmapiaddressbook
+nsmapiaddressbook
+nsmapiaddressbook
+nsabwinhelper
+bool
+result
+initialize
+nsassertion
+result
+true
+couldn
+initialize
+mapi
+helper
+mozcountctor
+nsmapiaddressbook
+nsmapiaddressbook
+nsmapiaddressbook
+nsautolock
+guard
+mmutex
+freemapilibrary
+mozcountdtor
+nsmapiaddressbook
+bool
+nsmapiaddressbook
+initialize
+maddressbook
+true
+nsautolock
+guard
+mmutex
+loadmapilibrary
+printf
+cannot
+load
+library
+false
+maddressbook
+mrootbook
+true
+nsmapiaddressbook
+allocatebuffer
+ulong
+abytecount
+lpvoid
+abuffer
+mmapiallocatebuffer
+abytecount
+abuffer
+nsmapiaddressbook
+freebuffer
+lpvoid
+abuffer
+mmapifreebuffer
+abuffer
\ No newline at end of file
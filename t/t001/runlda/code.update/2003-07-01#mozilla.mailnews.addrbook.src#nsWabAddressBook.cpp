@@ -0,0 +1,169 @@
+nswabaddressbook
+nsabutils
+nsautolock
+prlog
+ifdef
+prlogging
+prlogmoduleinfo
+gwabaddressbooklog
+prnewlogmodule
+nswabaddressbooklog
+endif
+define
+printf
+args
+prlog
+gwabaddressbooklog
+prlogdebug
+args
+hmodule
+nswabaddressbook
+mlibrary
+print
+nswabaddressbook
+mlibusage
+lpwabopen
+nswabaddressbook
+mwabopen
+lpwabobject
+nswabaddressbook
+mrootsession
+lpadrbook
+nswabaddressbook
+mrootbook
+bool
+nswabaddressbook
+loadwablibrary
+mlibrary
+mlibusage
+true
+tchar
+wabdllpath
+maxpath
+dword
+keytype
+ulong
+bytecount
+wabdllpath
+hkey
+keyhandle
+wabdllpath
+maxpath
+regopenkeyex
+hkeylocalmachine
+wabdllpathkey
+keyread
+keyhandle
+errorsuccess
+regqueryvalueex
+keyhandle
+keytype
+lpbyte
+wabdllpath
+bytecount
+keyhandle
+regclosekey
+keyhandle
+mlibrary
+loadlibrary
+lstrlen
+wabdllpath
+wabdllpath
+wabdllname
+mlibrary
+false
+mlibusage
+mwabopen
+nsreinterpretcast
+lpwabopen
+getprocaddress
+mlibrary
+wabopen
+mwabopen
+false
+hresult
+retcode
+mwabopen
+mrootbook
+mrootsession
+hrfailed
+retcode
+printf
+cannot
+initialize
+wab
+retcode
+false
+true
+nswabaddressbook
+freewablibrary
+mlibrary
+mlibusage
+mrootbook
+mrootbook
+release
+mrootsession
+mrootsession
+release
+freelibrary
+mlibrary
+mlibrary
+mozdeclctorcounter
+nswabaddressbook
+nswabaddressbook
+nswabaddressbook
+nsabwinhelper
+bool
+result
+initialize
+nsassertion
+result
+true
+couldn
+initialize
+wab
+helper
+mozcountctor
+nswabaddressbook
+nswabaddressbook
+nswabaddressbook
+nsautolock
+guard
+mmutex
+freewablibrary
+mozcountdtor
+nswabaddressbook
+bool
+nswabaddressbook
+initialize
+maddressbook
+true
+nsautolock
+guard
+mmutex
+loadwablibrary
+printf
+cannot
+load
+library
+false
+maddressbook
+mrootbook
+true
+nswabaddressbook
+allocatebuffer
+ulong
+abytecount
+lpvoid
+abuffer
+mrootsession
+allocatebuffer
+abytecount
+abuffer
+nswabaddressbook
+freebuffer
+lpvoid
+abuffer
+mrootsession
+freebuffer
+abuffer
\ No newline at end of file
@@ -0,0 +1,490 @@
+nsifactory
+nsisupports
+msgcore
+nsimodule
+nsigenericfactory
+nsmsgbasecid
+pratom
+nsicomponentmanager
+nsiservicemanager
+rdf
+nscrt
+nscomptr
+nsmessengerbootstrap
+nsmessenger
+nsmsggrouprecord
+nsiregistry
+nsicontentviewer
+nsiurllistenermanager
+nsurllistenermanager
+nsmsgmailsession
+nsmsgaccount
+nsmsgaccountmanager
+nsmessengermigrator
+nsmsgidentity
+nsmsgincomingserver
+nsmsgfolderdatasource
+nsmsgaccountmanagerds
+nsmsgbiffmanager
+nsmsgpurgeservice
+nsstatusbarbiffmanager
+nscopymessagestreamlistener
+nsmsgcopyservice
+nsmsgfoldercache
+nsmsgstatusfeedback
+nsmsgfilterservice
+nsmsgfilterdatasource
+nsmsgfilterdelegatefactory
+nsmsgwindow
+nsmsgserviceprovider
+nssubscribedatasource
+nssubscribableserver
+nsmsgprintengine
+nsmsgsearchsession
+nsmsgsearchterm
+nsmsgsearchadapter
+nsmsgfoldercompactor
+nsmsgthreadeddbview
+nsmsgspecialviews
+nsmsgsearchdbview
+nsmsgquicksearchdbview
+nsmsgofflinemanager
+nsmsgprogress
+nsspamsettings
+nscidprotocolhandler
+ifdef
+xpwin
+nsmessengerwinintegration
+endif
+ifdef
+xpos
+nsmessengerosintegration
+endif
+nscuriloader
+nsmessengercontenthandler
+nsgenericfactoryconstructor
+nsmessengerbootstrap
+nsgenericfactoryconstructor
+nsurllistenermanager
+nsgenericfactoryconstructorinit
+nsmsgmailsession
+init
+nsgenericfactoryconstructor
+nsmessenger
+nsgenericfactoryconstructorinit
+nsmsgaccountmanager
+init
+nsgenericfactoryconstructorinit
+nsmessengermigrator
+init
+nsgenericfactoryconstructor
+nsmsgaccount
+nsgenericfactoryconstructor
+nsmsgidentity
+nsgenericfactoryconstructorinit
+nsmsgfolderdatasource
+init
+nsgenericfactoryconstructorinit
+nsmsgaccountmanagerdatasource
+init
+nsgenericfactoryconstructor
+nsmsgsearchsession
+nsgenericfactoryconstructor
+nsmsgsearchterm
+nsgenericfactoryconstructor
+nsmsgsearchvaliditymanager
+nsgenericfactoryconstructor
+nsmsgfilterservice
+nsgenericfactoryconstructor
+nsmsgfilterdatasource
+nsgenericfactoryconstructor
+nsmsgfilterdelegatefactory
+nsgenericfactoryconstructorinit
+nsmsgbiffmanager
+init
+nsgenericfactoryconstructor
+nsmsgpurgeservice
+nsgenericfactoryconstructorinit
+nsstatusbarbiffmanager
+init
+nsgenericfactoryconstructor
+nscopymessagestreamlistener
+nsgenericfactoryconstructor
+nsmsgcopyservice
+nsgenericfactoryconstructor
+nsmsgfoldercache
+nsgenericfactoryconstructor
+nsmsgstatusfeedback
+nsgenericfactoryconstructorinit
+nsmsgwindow
+init
+nsgenericfactoryconstructorinit
+nsmsgserviceproviderservice
+init
+nsgenericfactoryconstructorinit
+nssubscribedatasource
+init
+nsgenericfactoryconstructorinit
+nssubscribableserver
+init
+nsgenericfactoryconstructor
+nsmsgprintengine
+nsgenericfactoryconstructor
+nsfoldercompactstate
+nsgenericfactoryconstructor
+nsofflinestorecompactstate
+nsgenericfactoryconstructor
+nsmsgthreadeddbview
+nsgenericfactoryconstructor
+nsmsgthreadswithunreaddbview
+nsgenericfactoryconstructor
+nsmsgwatchedthreadswithunreaddbview
+nsgenericfactoryconstructor
+nsmsgsearchdbview
+nsgenericfactoryconstructor
+nsmsgquicksearchdbview
+nsgenericfactoryconstructor
+nsmsgofflinemanager
+nsgenericfactoryconstructor
+nsmsgprogress
+nsgenericfactoryconstructor
+nsspamsettings
+nsgenericfactoryconstructor
+nscidprotocolhandler
+ifdef
+xpwin
+nsgenericfactoryconstructorinit
+nsmessengerwinintegration
+init
+endif
+ifdef
+xpos
+nsgenericfactoryconstructorinit
+nsmessengerosintegration
+init
+endif
+nsgenericfactoryconstructor
+nsmessengercontenthandler
+nsmodulecomponentinfo
+gcomponents
+netscape
+messenger
+bootstrapper
+nsmessengerbootstrapcid
+nsmessengerbootstrapcontractid
+nsmessengerbootstrapconstructor
+netscape
+messenger
+window
+service
+nsmessengerwindowservicecid
+nsmessengerwindowservicecontractid
+nsmessengerbootstrapconstructor
+mail
+startup
+handler
+nsmessengerbootstrapcid
+nsmailstartuphandlercontractid
+nsmessengerbootstrapconstructor
+nsmessengerbootstrap
+registerproc
+nsmessengerbootstrap
+unregisterproc
+urllistenermanager
+nsurllistenermanagercid
+nsurllistenermanagercontractid
+nsurllistenermanagerconstructor
+mail
+session
+nsmsgmailsessioncid
+nsmsgmailsessioncontractid
+nsmsgmailsessionconstructor
+messenger
+dom
+interaction
+object
+nsmessengercid
+nsmessengercontractid
+nsmessengerconstructor
+messenger
+account
+manager
+nsmsgaccountmanagercid
+nsmsgaccountmanagercontractid
+nsmsgaccountmanagerconstructor
+messenger
+migrator
+nsmessengermigratorcid
+nsmessengermigratorcontractid
+nsmessengermigratorconstructor
+messenger
+user
+account
+nsmsgaccountcid
+nsmsgaccountcontractid
+nsmsgaccountconstructor
+messenger
+user
+identity
+nsmsgidentitycid
+nsmsgidentitycontractid
+nsmsgidentityconstructor
+mail
+news
+folder
+data
+source
+nsmailnewsfolderdatasourcecid
+nsmailnewsfolderdatasourcecontractid
+nsmsgfolderdatasourceconstructor
+mail
+news
+account
+manager
+data
+source
+nsmsgaccountmanagerdatasourcecid
+nsrdfdatasourcecontractidprefix
+msgaccountmanager
+nsmsgaccountmanagerdatasourceconstructor
+message
+filter
+service
+nsmsgfilterservicecid
+nsmsgfilterservicecontractid
+nsmsgfilterserviceconstructor
+message
+search
+session
+nsmsgsearchsessioncid
+nsmsgsearchsessioncontractid
+nsmsgsearchsessionconstructor
+message
+search
+term
+nsmsgsearchtermcid
+nsmsgsearchtermcontractid
+nsmsgsearchtermconstructor
+message
+search
+validity
+manager
+nsmsgsearchvaliditymanagercid
+nsmsgsearchvaliditymanagercontractid
+nsmsgsearchvaliditymanagerconstructor
+message
+filter
+service
+nsmsgfilterservicecid
+nsmsgfilterservicecontractid
+nsmsgfilterserviceconstructor
+message
+filter
+datasource
+nsmsgfilterdatasourcecid
+nsmsgfilterdatasourcecontractid
+nsmsgfilterdatasourceconstructor
+message
+filter
+delegate
+factory
+nsmsgfilterdelegatefactorycid
+nsmsgfilterdelegatefactoryimapcontractid
+nsmsgfilterdelegatefactoryconstructor
+message
+filter
+delegate
+factory
+nsmsgfilterdelegatefactorycid
+nsmsgfilterdelegatefactorymailboxcontractid
+nsmsgfilterdelegatefactoryconstructor
+message
+filter
+delegate
+factory
+nsmsgfilterdelegatefactorycid
+nsmsgfilterdelegatefactorynewscontractid
+nsmsgfilterdelegatefactoryconstructor
+messenger
+biff
+manager
+nsmsgbiffmanagercid
+nsmsgbiffmanagercontractid
+nsmsgbiffmanagerconstructor
+messenger
+purge
+service
+nsmsgpurgeservicecid
+nsmsgpurgeservicecontractid
+nsmsgpurgeserviceconstructor
+status
+bar
+biff
+manager
+nsstatusbarbiffmanagercid
+nsstatusbarbiffmanagercontractid
+nsstatusbarbiffmanagerconstructor
+mail
+news
+copymessage
+stream
+listener
+nscopymessagestreamlistenercid
+nscopymessagestreamlistenercontractid
+nscopymessagestreamlistenerconstructor
+mail
+news
+message
+copy
+service
+nsmsgcopyservicecid
+nsmsgcopyservicecontractid
+nsmsgcopyserviceconstructor
+mail
+news
+folder
+cache
+nsmsgfoldercachecid
+nsmsgfoldercachecontractid
+nsmsgfoldercacheconstructor
+mail
+news
+status
+feedback
+nsmsgstatusfeedbackcid
+nsmsgstatusfeedbackcontractid
+nsmsgstatusfeedbackconstructor
+mail
+news
+msgwindow
+nsmsgwindowcid
+nsmsgwindowcontractid
+nsmsgwindowconstructor
+mail
+news
+print
+engine
+nsmsgprintenginecid
+nsmsgprintenginecontractid
+nsmsgprintengineconstructor
+mail
+news
+service
+provider
+service
+nsmsgserviceproviderservicecid
+nsmsgserviceproviderservicecontractid
+nsmsgserviceproviderserviceconstructor
+mail
+news
+subscribe
+data
+source
+nssubscribedatasourcecid
+nssubscribedatasourcecontractid
+nssubscribedatasourceconstructor
+mail
+news
+subscribable
+server
+nssubscribableservercid
+nssubscribableservercontractid
+nssubscribableserverconstructor
+local
+folder
+compactor
+nsmsglocalfoldercompactorcid
+nsmsglocalfoldercompactorcontractid
+nsfoldercompactstateconstructor
+offline
+store
+compactor
+nsmsgofflinestorecompactorcid
+nsmsgofflinestorecompactorcontractid
+nsofflinestorecompactstateconstructor
+threaded
+db
+view
+nsmsgthreadeddbviewcid
+nsmsgthreadeddbviewcontractid
+nsmsgthreadeddbviewconstructor
+threads
+with
+unread
+db
+view
+nsmsgthreadswithunreaddbviewcid
+nsmsgthreadswithunreaddbviewcontractid
+nsmsgthreadswithunreaddbviewconstructor
+watched
+threads
+with
+unread
+db
+view
+nsmsgwatchedthreadswithunreaddbviewcid
+nsmsgwatchedthreadswithunreaddbviewcontractid
+nsmsgwatchedthreadswithunreaddbviewconstructor
+search
+db
+view
+nsmsgsearchdbviewcid
+nsmsgsearchdbviewcontractid
+nsmsgsearchdbviewconstructor
+quick
+search
+db
+view
+nsmsgquicksearchdbviewcid
+nsmsgquicksearchdbviewcontractid
+nsmsgquicksearchdbviewconstructor
+messenger
+offline
+manager
+nsmsgofflinemanagercid
+nsmsgofflinemanagercontractid
+nsmsgofflinemanagerconstructor
+messenger
+progress
+manager
+nsmsgprogresscid
+nsmsgprogresscontractid
+nsmsgprogressconstructor
+spam
+settings
+nsspamsettingscid
+nsspamsettingscontractid
+nsspamsettingsconstructor
+cid
+protocol
+nscidprotocolcid
+nscidprotocolhandlercontractid
+nscidprotocolhandlerconstructor
+ifdef
+xpwin
+windows
+os
+integration
+nsmessengerwinintegrationcid
+nsmessengerosintegrationcontractid
+nsmessengerwinintegrationconstructor
+endif
+ifdef
+xpos
+os
+os
+integration
+nsmessengerosintegrationcid
+nsmessengerosintegrationcontractid
+nsmessengerosintegrationconstructor
+endif
+message
+display
+content
+handler
+nsmessengercontenthandlercid
+nsmessengercontenthandlercontractid
+nsmessengercontenthandlerconstructor
+nsimplnsgetmodule
+nsmsgbasemodule
+gcomponents
\ No newline at end of file
@@ -0,0 +1,1801 @@
+nstextformatter
+msgcore
+nsmsgfilterlist
+nsmsgfilter
+nsimsgfilterhitnotify
+nsfilestream
+nsmsgutils
+nsmsgsearchterm
+nsxpidlstring
+nsreadableutils
+nsiimportservice
+nsmsgbasecid
+nsimsgfilterservice
+nsisupportsobsolete
+nsnetutil
+prunichar
+unicodeformatter
+prunichar
+prunichar
+prunichar
+nsmsgfilterlist
+nsmsgfilterlist
+mfileversion
+nsresult
+rv
+nsnewisupportsarray
+getteraddrefs
+mfilters
+nsassertion
+nssucceeded
+rv
+fixme
+bug
+nsnewisupportsarray
+failed
+mloggingenabled
+prfalse
+mstartwritingtobuffer
+prfalse
+mcurfilter
+nsnull
+marbitraryheaders
+setlength
+nsimpladdref
+nsmsgfilterlist
+nsimplrelease
+nsmsgfilterlist
+nsimplqueryinterface
+nsmsgfilterlist
+nsimsgfilterlist
+nsimethodimp
+nsmsgfilterlist
+createfilter
+prunichar
+name
+nsimsgfilter
+afilter
+nsensureargpointer
+afilter
+nsmsgfilter
+filter
+nsmsgfilter
+nsensuretrue
+filter
+nserroroutofmemory
+nsaddref
+afilter
+filter
+filter
+setfiltername
+name
+filter
+setfilterlist
+nsok
+nsimplgetset
+nsmsgfilterlist
+loggingenabled
+prbool
+mloggingenabled
+nsimethodimp
+nsmsgfilterlist
+getfolder
+nsimsgfolder
+afolder
+nsensurearg
+afolder
+afolder
+mfolder
+nsifaddref
+afolder
+nsok
+nsimethodimp
+nsmsgfilterlist
+setfolder
+nsimsgfolder
+afolder
+mfolder
+afolder
+nsok
+nsimethodimp
+nsmsgfilterlist
+savetofile
+nsiofilestream
+stream
+stream
+nserrornullpointer
+savetextfilters
+stream
+nsimethodimp
+nsmsgfilterlist
+ensurelogfile
+nscomptr
+nsifilespec
+file
+nsresult
+rv
+getlogfilespec
+getteraddrefs
+file
+nsensuresuccess
+rv
+rv
+prbool
+exists
+rv
+file
+exists
+exists
+nssucceeded
+rv
+exists
+rv
+file
+touch
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsmsgfilterlist
+truncatelog
+nsresult
+rv
+setlogstream
+nsnull
+nsensuresuccess
+rv
+rv
+nscomptr
+nsifilespec
+file
+rv
+getlogfilespec
+getteraddrefs
+file
+nsensuresuccess
+rv
+rv
+rv
+file
+truncate
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsmsgfilterlist
+clearlog
+prbool
+loggingenabled
+mloggingenabled
+mloggingenabled
+prfalse
+nsresult
+rv
+truncatelog
+nsassertion
+nssucceeded
+rv
+failed
+to
+truncate
+filter
+log
+mloggingenabled
+loggingenabled
+nsok
+nsresult
+nsmsgfilterlist
+getlogfilespec
+nsifilespec
+afilespec
+nsensureargpointer
+afilespec
+nscomptr
+nsimsgfolder
+folder
+nsresult
+rv
+getfolder
+getteraddrefs
+folder
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+folder
+getserver
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+type
+rv
+server
+gettype
+gettercopies
+type
+nsensuresuccess
+rv
+rv
+type
+equals
+nntp
+nscomptr
+nsifilespec
+thisfolder
+rv
+mfolder
+getpath
+getteraddrefs
+thisfolder
+nsensuresuccess
+rv
+rv
+nscomptr
+nsifilespec
+filterlogfile
+docreateinstance
+nsfilespeccontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+filterlogfile
+fromfilespec
+thisfolder
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+filterlogname
+rv
+filterlogfile
+getleafname
+gettercopies
+filterlogname
+nsensuresuccess
+rv
+rv
+filterlogname
+append
+htm
+rv
+filterlogfile
+setleafname
+filterlogname
+get
+nsensuresuccess
+rv
+rv
+nsifaddref
+afilespec
+filterlogfile
+rv
+server
+getlocalpath
+afilespec
+nsensuresuccess
+rv
+rv
+rv
+afilespec
+appendrelativeunixpath
+filterlog
+html
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsmsgfilterlist
+getlogurl
+alogurl
+nsensureargpointer
+alogurl
+nscomptr
+nsifilespec
+file
+nsresult
+rv
+getlogfilespec
+getteraddrefs
+file
+nsensuresuccess
+rv
+rv
+rv
+file
+geturlstring
+alogurl
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsmsgfilterlist
+setlogstream
+nsioutputstream
+alogstream
+mlogstream
+nsresult
+rv
+mlogstream
+close
+nsensuresuccess
+rv
+rv
+mlogstream
+alogstream
+nsok
+nsimethodimp
+nsmsgfilterlist
+getlogstream
+nsioutputstream
+alogstream
+nsensureargpointer
+alogstream
+nsresult
+rv
+mlogstream
+nscomptr
+nsifilespec
+file
+rv
+getlogfilespec
+getteraddrefs
+file
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+nativepath
+rv
+file
+getnativepath
+gettercopies
+nativepath
+nsensuresuccess
+rv
+rv
+nscomptr
+nsilocalfile
+logfile
+docreateinstance
+nslocalfilecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+logfile
+initwithnativepath
+nsdependentcstring
+nativepath
+nsensuresuccess
+rv
+rv
+rv
+nsnewlocalfileoutputstream
+getteraddrefs
+mlogstream
+logfile
+prcreatefile
+prwronly
+prappend
+nsensuresuccess
+rv
+rv
+mlogstream
+nserrorfailure
+nsaddref
+alogstream
+mlogstream
+nsok
+nsimethodimp
+nsmsgfilterlist
+applyfilterstohdr
+nsmsgfiltertypetype
+filtertype
+nsimsgdbhdr
+msghdr
+nsimsgfolder
+folder
+nsimsgdatabase
+db
+headers
+pruint
+headerssize
+nsimsgfilterhitnotify
+listener
+nsimsgwindow
+msgwindow
+nscomptr
+nsimsgfilter
+filter
+pruint
+filtercount
+nsresult
+rv
+getfiltercount
+filtercount
+nsensuresuccess
+rv
+rv
+pruint
+filterindex
+filterindex
+filtercount
+filterindex
+nssucceeded
+getfilterat
+filterindex
+getteraddrefs
+filter
+prbool
+isenabled
+nsmsgfiltertypetype
+curfiltertype
+filter
+getenabled
+isenabled
+isenabled
+filter
+getfiltertype
+curfiltertype
+curfiltertype
+filtertype
+nsresult
+matchtermstatus
+nsok
+prbool
+result
+matchtermstatus
+filter
+matchhdr
+msghdr
+folder
+db
+headers
+headerssize
+result
+nssucceeded
+matchtermstatus
+result
+listener
+prbool
+applymore
+prtrue
+rv
+listener
+applyfilterhit
+filter
+msgwindow
+applymore
+nsfailed
+rv
+applymore
+rv
+nsimethodimp
+nsmsgfilterlist
+setdefaultfile
+nsifilespec
+afilespec
+nsresult
+rv
+mdefaultfile
+docreateinstance
+nsfilespeccontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+mdefaultfile
+fromfilespec
+afilespec
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsmsgfilterlist
+getdefaultfile
+nsifilespec
+aresult
+nsensureargpointer
+aresult
+nsresult
+rv
+nscomptr
+nsifilespec
+filespec
+docreateinstance
+nsfilespeccontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+filespec
+fromfilespec
+mdefaultfile
+nsensuresuccess
+rv
+rv
+aresult
+filespec
+nsaddref
+aresult
+nsok
+nsimethodimp
+nsmsgfilterlist
+savetodefaultfile
+nsresult
+rv
+nscomptr
+nsimsgfilterservice
+filterservice
+dogetservice
+nsmsgfilterservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+filterservice
+savefilterlist
+mdefaultfile
+nsmsgfilterfileattribvalue
+attrib
+attribname
+filterfileattribentry
+filterfileattribentry
+filterfileattribtable
+nsimsgfilterlist
+attribnone
+nsimsgfilterlist
+attribversion
+version
+nsimsgfilterlist
+attriblogging
+logging
+nsimsgfilterlist
+attribname
+name
+nsimsgfilterlist
+attribenabled
+enabled
+nsimsgfilterlist
+attribdescription
+description
+nsimsgfilterlist
+attribtype
+type
+nsimsgfilterlist
+attribscriptfile
+scriptname
+nsimsgfilterlist
+attribaction
+action
+nsimsgfilterlist
+attribactionvalue
+actionvalue
+nsimsgfilterlist
+attribcondition
+condition
+nsmsgfilterlist
+readchar
+nsiofilestream
+astream
+newchar
+astream
+newchar
+astream
+eof
+mstartwritingtobuffer
+munparsedfilterbuffer
+append
+newchar
+newchar
+nsmsgfilterlist
+skipwhitespace
+nsiofilestream
+astream
+ch
+ch
+readchar
+astream
+nscrt
+isasciispace
+prunichar
+ch
+ch
+prbool
+nsmsgfilterlist
+strtobool
+nscstring
+str
+str
+equals
+yes
+nsmsgfilterlist
+loadattrib
+nsmsgfilterfileattribvalue
+attrib
+nsiofilestream
+astream
+attribstr
+curchar
+attrib
+nsimsgfilterlist
+attribnone
+curchar
+skipwhitespace
+astream
+attribstr
+curchar
+nscrt
+isasciispace
+prunichar
+curchar
+curchar
+attribstr
+curchar
+curchar
+readchar
+astream
+attribstr
+tableindex
+tableindex
+filterfileattribtable
+filterfileattribtable
+tableindex
+plstrcasecmp
+attribstr
+filterfileattribtable
+tableindex
+attribname
+attrib
+filterfileattribtable
+tableindex
+attrib
+curchar
+nsmsgfilterlist
+getstringforattrib
+nsmsgfilterfileattribvalue
+attrib
+tableindex
+tableindex
+filterfileattribtable
+filterfileattribtable
+tableindex
+attrib
+filterfileattribtable
+tableindex
+attrib
+filterfileattribtable
+tableindex
+attribname
+nsnull
+nsresult
+nsmsgfilterlist
+loadvalue
+nscstring
+value
+nsiofilestream
+astream
+nscautostring
+valuestr
+curchar
+value
+curchar
+skipwhitespace
+astream
+curchar
+nsassertion
+prfalse
+expecting
+quote
+as
+start
+of
+value
+nsmsgfilterparseerror
+curchar
+readchar
+astream
+curchar
+nextchar
+readchar
+astream
+nextchar
+curchar
+nextchar
+curchar
+readchar
+astream
+valuestr
+curchar
+curchar
+nextchar
+curchar
+curchar
+curchar
+curchar
+value
+valuestr
+valuestr
+curchar
+curchar
+readchar
+astream
+astream
+eof
+nsok
+nsresult
+nsmsgfilterlist
+loadtextfilters
+nsiofilestream
+astream
+nsresult
+err
+nsok
+nsmsgfilterfileattribvalue
+attrib
+nscomptr
+nsiimportservice
+impsvc
+nscomptr
+nsimsgruleaction
+currentfilteraction
+astream
+seek
+prseekset
+nscautostring
+value
+print
+inttostringresult
+curchar
+curchar
+loadattrib
+attrib
+astream
+curchar
+err
+loadvalue
+value
+astream
+err
+nsok
+attrib
+nsimsgfilterlist
+attribnone
+mcurfilter
+setunparseable
+prtrue
+nsimsgfilterlist
+attribversion
+mfileversion
+value
+tointeger
+inttostringresult
+inttostringresult
+attrib
+nsimsgfilterlist
+attribnone
+nsassertion
+prfalse
+error
+parsing
+filter
+file
+version
+mfileversion
+kversion
+impsvc
+dogetservice
+nsimportservicecontractid
+nsassertion
+impsvc
+cannot
+get
+importservice
+nsimsgfilterlist
+attriblogging
+mloggingenabled
+strtobool
+value
+munparsedfilterbuffer
+truncate
+mstartwritingtobuffer
+prtrue
+nsimsgfilterlist
+attribname
+mcurfilter
+print
+nextfilterstartpos
+munparsedfilterbuffer
+rfind
+name
+nscautostring
+nextfilterpart
+nextfilterpart
+substring
+munparsedfilterbuffer
+nextfilterstartpos
+munparsedfilterbuffer
+length
+munparsedfilterbuffer
+truncate
+nextfilterstartpos
+prbool
+unparseablefilter
+mcurfilter
+getunparseable
+unparseablefilter
+unparseablefilter
+mcurfilter
+setunparsedbuffer
+munparsedfilterbuffer
+get
+mcurfilter
+setenabled
+prfalse
+munparsedfilterbuffer
+nextfilterpart
+nsmsgfilter
+filter
+nsmsgfilter
+filter
+nsnull
+err
+nserroroutofmemory
+filter
+setfilterlist
+nsstaticcast
+nsimsgfilterlist
+mfileversion
+kversion
+impsvc
+nsautostring
+unicodestr
+impsvc
+systemstringtounicode
+value
+get
+unicodestr
+filter
+setfiltername
+unicodestr
+get
+prunichar
+unicodestring
+nstextformatter
+smprintf
+unicodeformatter
+value
+get
+filter
+setfiltername
+unicodestring
+nstextformatter
+smprintffree
+unicodestring
+mcurfilter
+filter
+mfilters
+appendelement
+nsstaticcast
+nsisupports
+filter
+nsimsgfilterlist
+attribenabled
+mcurfilter
+mcurfilter
+setenabled
+strtobool
+value
+nsimsgfilterlist
+attribdescription
+mcurfilter
+mcurfilter
+setfilterdesc
+value
+get
+nsimsgfilterlist
+attribtype
+mcurfilter
+mcurfilter
+settype
+nsmsgfiltertypetype
+value
+tointeger
+inttostringresult
+nsimsgfilterlist
+attribscriptfile
+mcurfilter
+mcurfilter
+setfilterscript
+value
+nsimsgfilterlist
+attribaction
+mcurfilter
+nsmsgruleactiontype
+actiontype
+nsmsgfilter
+getactionforfilingstr
+value
+actiontype
+nsmsgfilteraction
+none
+mcurfilter
+setunparseable
+prtrue
+err
+mcurfilter
+createaction
+getteraddrefs
+currentfilteraction
+nsensuresuccess
+err
+err
+currentfilteraction
+settype
+actiontype
+mcurfilter
+appendaction
+currentfilteraction
+nsimsgfilterlist
+attribactionvalue
+mcurfilter
+currentfilteraction
+nsmsgruleactiontype
+type
+currentfilteraction
+gettype
+type
+type
+nsmsgfilteraction
+movetofolder
+err
+mcurfilter
+convertmovetofoldervalue
+currentfilteraction
+value
+type
+nsmsgfilteraction
+changepriority
+nsmsgpriorityvalue
+outpriority
+nsresult
+res
+nsmsggetpriorityfromstring
+value
+get
+outpriority
+nssucceeded
+res
+currentfilteraction
+setpriority
+outpriority
+nsassertion
+prfalse
+invalid
+priority
+in
+filter
+file
+type
+nsmsgfilteraction
+label
+print
+res
+print
+labelint
+value
+tointeger
+res
+res
+currentfilteraction
+setlabel
+nsmsglabelvalue
+labelint
+nsimsgfilterlist
+attribcondition
+mcurfilter
+mfileversion
+kversion
+impsvc
+nsautostring
+unicodestr
+impsvc
+systemstringtounicode
+value
+get
+unicodestr
+utf
+tonewutfstring
+unicodestr
+value
+assign
+utf
+nsmemory
+free
+utf
+err
+parsecondition
+value
+err
+nserrorinvalidarg
+err
+mcurfilter
+setunparseable
+prtrue
+nsensuresuccess
+err
+err
+astream
+eof
+mcurfilter
+prbool
+unparseablefilter
+mcurfilter
+getunparseable
+unparseablefilter
+unparseablefilter
+mcurfilter
+setunparsedbuffer
+munparsedfilterbuffer
+get
+mcurfilter
+setenabled
+prfalse
+err
+nsresult
+nsmsgfilterlist
+parsecondition
+nscstring
+value
+prbool
+done
+prfalse
+nsresult
+err
+nsok
+curptr
+value
+get
+done
+openparen
+plstrchr
+curptr
+ortermpos
+plstrchr
+curptr
+prbool
+andterm
+prtrue
+ortermpos
+ortermpos
+openparen
+andterm
+prfalse
+termdup
+nsnull
+openparen
+prbool
+foundendterm
+prfalse
+prbool
+inquote
+prfalse
+curptr
+openparen
+curptr
+curptr
+curptr
+curptr
+curptr
+curptr
+inquote
+foundendterm
+prtrue
+curptr
+inquote
+inquote
+foundendterm
+termlen
+curptr
+openparen
+termdup
+prmalloc
+termlen
+termdup
+plstrncpy
+termdup
+openparen
+termlen
+termdup
+termlen
+err
+nserroroutofmemory
+termdup
+nsmsgsearchterm
+newterm
+nsmsgsearchterm
+newterm
+andterm
+newterm
+mbooleanop
+nsmsgsearchbooleanop
+booleanand
+newterm
+mbooleanop
+nsmsgsearchbooleanop
+booleanor
+err
+newterm
+destreamnew
+termdup
+plstrlen
+termdup
+nsensuresuccess
+err
+err
+mcurfilter
+appendterm
+newterm
+prfreeif
+termdup
+err
+nsresult
+nsmsgfilterlist
+writeintattr
+nsmsgfilterfileattribvalue
+attrib
+value
+nsiofilestream
+astream
+attribstr
+getstringforattrib
+attrib
+attribstr
+astream
+attribstr
+astream
+astream
+value
+astream
+msglinebreak
+nsok
+nsresult
+nsmsgfilterlist
+writestrattr
+nsmsgfilterfileattribvalue
+attrib
+str
+nsiofilestream
+astream
+str
+str
+astream
+escapedstr
+nsnull
+plstrchr
+str
+escapedstr
+nsmsgsearchterm
+escapequotesinstr
+str
+attribstr
+getstringforattrib
+attrib
+attribstr
+astream
+attribstr
+astream
+astream
+escapedstr
+escapedstr
+str
+astream
+msglinebreak
+prfreeif
+escapedstr
+nsok
+nsresult
+nsmsgfilterlist
+writeboolattr
+nsmsgfilterfileattribvalue
+attrib
+prbool
+boolval
+nsiofilestream
+astream
+writestrattr
+attrib
+boolval
+yes
+no
+astream
+nsresult
+nsmsgfilterlist
+writewstrattr
+nsmsgfilterfileattribvalue
+attrib
+prunichar
+afiltername
+nsiofilestream
+astream
+writestrattr
+attrib
+nsconvertucstoutf
+afiltername
+get
+astream
+nsok
+nsresult
+nsmsgfilterlist
+savetextfilters
+nsiofilestream
+astream
+nsresult
+err
+nsok
+attribstr
+pruint
+filtercount
+mfilters
+count
+filtercount
+attribstr
+getstringforattrib
+nsimsgfilterlist
+attribversion
+err
+writeintattr
+nsimsgfilterlist
+attribversion
+kfileversion
+astream
+err
+writeboolattr
+nsimsgfilterlist
+attriblogging
+mloggingenabled
+astream
+pruint
+filtercount
+nsmsgfilter
+filter
+getmsgfilterat
+filter
+nsok
+filter
+nsnull
+filter
+setfilterlist
+prbool
+istemporary
+err
+filter
+gettemporary
+istemporary
+nssucceeded
+err
+istemporary
+err
+filter
+savetotextfile
+astream
+nsok
+nsrelease
+filter
+nssucceeded
+err
+marbitraryheaders
+setlength
+err
+nsmsgfilterlist
+nsmsgfilterlist
+nsresult
+nsmsgfilterlist
+close
+nserrornotimplemented
+nsresult
+nsmsgfilterlist
+getfiltercount
+pruint
+pcount
+mfilters
+count
+pcount
+nsresult
+nsmsgfilterlist
+getmsgfilterat
+pruint
+filterindex
+nsmsgfilter
+filter
+pruint
+filtercount
+mfilters
+count
+filtercount
+filtercount
+filterindex
+nserrorinvalidarg
+filter
+nsnull
+nserrornullpointer
+filter
+nsmsgfilter
+mfilters
+elementat
+filterindex
+nsok
+nsresult
+nsmsgfilterlist
+getfilterat
+pruint
+filterindex
+nsimsgfilter
+filter
+nsensureargpointer
+filter
+pruint
+filtercount
+mfilters
+count
+filtercount
+nsensurearg
+filtercount
+filterindex
+mfilters
+queryelementat
+filterindex
+nsgetiid
+nsimsgfilter
+filter
+nsresult
+nsmsgfilterlist
+getfilternamed
+prunichar
+aname
+nsimsgfilter
+aresult
+nsresult
+rv
+nsensureargpointer
+aname
+nsensureargpointer
+aresult
+pruint
+count
+mfilters
+count
+count
+aresult
+nsnull
+pruint
+count
+nscomptr
+nsisupports
+filtersupports
+rv
+mfilters
+getelementat
+getteraddrefs
+filtersupports
+nsfailed
+rv
+nsimsgfilter
+filter
+nsimsgfilter
+filtersupports
+get
+nsxpidlstring
+filtername
+filter
+getfiltername
+gettercopies
+filtername
+nscrt
+strcmp
+filtername
+aname
+aresult
+filter
+nsifaddref
+aresult
+nsok
+nsresult
+nsmsgfilterlist
+setfilterat
+pruint
+filterindex
+nsimsgfilter
+filter
+mfilters
+replaceelementat
+filter
+filterindex
+nsok
+nsresult
+nsmsgfilterlist
+removefilterat
+pruint
+filterindex
+mfilters
+removeelementat
+filterindex
+nsok
+nsresult
+nsmsgfilterlist
+removefilter
+nsimsgfilter
+afilter
+mfilters
+removeelement
+nsstaticcast
+nsisupports
+afilter
+nsresult
+nsmsgfilterlist
+insertfilterat
+pruint
+filterindex
+nsimsgfilter
+filter
+mfilters
+insertelementat
+filter
+filterindex
+nsok
+nsresult
+nsmsgfilterlist
+movefilterat
+pruint
+filterindex
+nsmsgfiltermotionvalue
+motion
+nsensurearg
+motion
+nsmsgfiltermotion
+up
+motion
+nsmsgfiltermotion
+down
+pruint
+filtercount
+mfilters
+count
+filtercount
+nsensurearg
+filtercount
+filterindex
+pruint
+newindex
+filterindex
+motion
+nsmsgfiltermotion
+up
+newindex
+filterindex
+filterindex
+nsok
+motion
+nsmsgfiltermotion
+down
+newindex
+filterindex
+newindex
+filtercount
+nsok
+mfilters
+moveelement
+filterindex
+newindex
+nsok
+nsresult
+nsmsgfilterlist
+movefilter
+nsimsgfilter
+afilter
+nsmsgfiltermotionvalue
+motion
+nsresult
+rv
+print
+filterindex
+rv
+mfilters
+getindexof
+nsstaticcast
+nsisupports
+afilter
+filterindex
+nsensuresuccess
+rv
+rv
+nsensurearg
+filterindex
+movefilterat
+filterindex
+motion
+nsresult
+nsmsgfilterlist
+getversion
+print
+aresult
+nsensureargpointer
+aresult
+aresult
+mfileversion
+nsok
+nsimethodimp
+nsmsgfilterlist
+matchorchangefiltertarget
+oldfolderuri
+newfolderuri
+prbool
+caseinsensitive
+prbool
+found
+nsresult
+rv
+nsok
+pruint
+numfilters
+rv
+mfilters
+count
+numfilters
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgfilter
+filter
+nsxpidlcstring
+folderuri
+pruint
+index
+index
+numfilters
+index
+filter
+doqueryelementat
+mfilters
+index
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupportsarray
+filteractionlist
+rv
+filter
+getactionlist
+getteraddrefs
+filteractionlist
+pruint
+numactions
+filteractionlist
+count
+numactions
+pruint
+actionindex
+actionindex
+numactions
+actionindex
+nscomptr
+nsimsgruleaction
+filteraction
+doqueryelementat
+filteractionlist
+actionindex
+nsmsgruleactiontype
+actiontype
+filteraction
+filteraction
+gettype
+actiontype
+actiontype
+nsmsgfilteraction
+movetofolder
+rv
+filteraction
+gettargetfolderuri
+gettercopies
+folderuri
+nssucceeded
+rv
+folderuri
+caseinsensitive
+plstrcasecmp
+folderuri
+oldfolderuri
+newfolderuri
+rv
+filteraction
+settargetfolderuri
+newfolderuri
+nsensuresuccess
+rv
+rv
+found
+prtrue
+plstrcmp
+folderuri
+oldfolderuri
+newfolderuri
+rv
+filteraction
+settargetfolderuri
+newfolderuri
+nsensuresuccess
+rv
+rv
+found
+prtrue
+rv
+nsimethodimp
+nsmsgfilterlist
+getshoulddownloadallheaders
+prbool
+aresult
+aresult
+prfalse
+nsok
+nsresult
+nsmsgfilterlist
+computearbitraryheaders
+nsresult
+rv
+nsok
+marbitraryheaders
+isempty
+pruint
+numfilters
+rv
+mfilters
+count
+numfilters
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgfilter
+filter
+nsmsgsearchattribvalue
+attrib
+nsxpidlcstring
+arbitraryheader
+pruint
+index
+index
+numfilters
+index
+filter
+doqueryelementat
+mfilters
+index
+rv
+nssucceeded
+rv
+filter
+nscomptr
+nsisupportsarray
+searchterms
+pruint
+numsearchterms
+filter
+getsearchterms
+getteraddrefs
+searchterms
+searchterms
+searchterms
+count
+numsearchterms
+pruint
+numsearchterms
+filter
+getterm
+attrib
+nsnull
+nsnull
+nsnull
+gettercopies
+arbitraryheader
+arbitraryheader
+arbitraryheader
+marbitraryheaders
+isempty
+marbitraryheaders
+assign
+arbitraryheader
+plstrncasecmp
+marbitraryheaders
+get
+arbitraryheader
+arbitraryheader
+length
+marbitraryheaders
+append
+marbitraryheaders
+append
+arbitraryheader
+rv
+nsimethodimp
+nsmsgfilterlist
+getarbitraryheaders
+aresult
+computearbitraryheaders
+aresult
+tonewcstring
+marbitraryheaders
+nsok
+nsimethodimp
+nsmsgfilterlist
+flushlogifnecessary
+prbool
+loggingenabled
+prfalse
+nsresult
+rv
+getloggingenabled
+loggingenabled
+nsensuresuccess
+rv
+rv
+loggingenabled
+nscomptr
+nsioutputstream
+logstream
+rv
+getlogstream
+getteraddrefs
+logstream
+nssucceeded
+rv
+logstream
+rv
+logstream
+flush
+nsensuresuccess
+rv
+rv
+rv
+ifdef
+debug
+nsmsgfilterlist
+dump
+pruint
+filtercount
+mfilters
+count
+filtercount
+printf
+filters
+filtercount
+pruint
+filtercount
+nsmsgfilter
+filter
+getmsgfilterat
+filter
+nsok
+filter
+dump
+nsrelease
+filter
+endif
\ No newline at end of file
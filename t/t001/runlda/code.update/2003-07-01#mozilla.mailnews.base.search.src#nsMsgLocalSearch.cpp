@@ -0,0 +1,1485 @@
+msgcore
+nsimsgdatabase
+nsmsgsearchcore
+nsmsglocalsearch
+nsistreamlistener
+nsparsemailbox
+nsmsgsearchboolexpression
+nsmsgsearchterm
+nsmsgresultelement
+nsidbfolderinfo
+nsmsgbasecid
+nsmsgsearchvalue
+nsimsglocalmailfolder
+nsimsgwindow
+nsifilespec
+mkmsgsearchstatus
+mkmsgcantsearchifnosummary
+mkmsgsearchhitsnotindb
+nsmsgsearchboolexpression
+nsmsgsearchboolexpression
+addsearchtermwithencoding
+nsmsgsearchboolexpression
+aorigexpr
+nsimsgsearchterm
+anewterm
+aencodingstr
+aorigexpr
+lefttorightaddterm
+anewterm
+prfalse
+aencodingstr
+nsmsgsearchboolexpression
+nsmsgsearchboolexpression
+addsearchterm
+nsmsgsearchboolexpression
+aorigexpr
+nsimsgsearchterm
+anewterm
+prbool
+aevalvalue
+aorigexpr
+lefttorightaddterm
+anewterm
+aevalvalue
+nsnull
+nsmsgsearchboolexpression
+nsmsgsearchboolexpression
+addexpressiontree
+nsmsgsearchboolexpression
+aorigexpr
+nsmsgsearchboolexpression
+aexpression
+prbool
+aboolop
+aorigexpr
+mterm
+aorigexpr
+mleftchild
+aorigexpr
+mrightchild
+aorigexpr
+aexpression
+nsmsgsearchboolexpression
+newexpr
+nsmsgsearchboolexpression
+aorigexpr
+aexpression
+aboolop
+newexpr
+newexpr
+aorigexpr
+nsmsgsearchboolexpression
+nsmsgsearchboolexpression
+mterm
+nsnull
+mboolop
+nsmsgsearchbooleanop
+booleanand
+mevalvalue
+prfalse
+mleftchild
+nsnull
+mrightchild
+nsnull
+nsmsgsearchboolexpression
+nsmsgsearchboolexpression
+nsimsgsearchterm
+newterm
+prbool
+evalvalue
+encodingstr
+mterm
+newterm
+mencodingstr
+encodingstr
+mevalvalue
+evalvalue
+mboolop
+nsmsgsearchbooleanop
+booleanand
+mleftchild
+nsnull
+mrightchild
+nsnull
+nsmsgsearchboolexpression
+nsmsgsearchboolexpression
+nsmsgsearchboolexpression
+expr
+nsmsgsearchboolexpression
+expr
+nsmsgsearchbooleanoperator
+boolop
+mleftchild
+expr
+mrightchild
+expr
+mboolop
+boolop
+mterm
+nsnull
+mevalvalue
+prfalse
+nsmsgsearchboolexpression
+nsmsgsearchboolexpression
+mleftchild
+mleftchild
+mrightchild
+mrightchild
+nsmsgsearchboolexpression
+nsmsgsearchboolexpression
+lefttorightaddterm
+nsimsgsearchterm
+newterm
+prbool
+evalvalue
+encodingstr
+mterm
+mleftchild
+mrightchild
+mterm
+newterm
+mevalvalue
+evalvalue
+mencodingstr
+encodingstr
+nsmsgsearchboolexpression
+tempexpr
+nsmsgsearchboolexpression
+newterm
+evalvalue
+encodingstr
+tempexpr
+prbool
+booleanand
+newterm
+getbooleanand
+booleanand
+nsmsgsearchboolexpression
+newexpr
+nsmsgsearchboolexpression
+tempexpr
+booleanand
+newexpr
+newexpr
+tempexpr
+prbool
+nsmsgsearchboolexpression
+offlineevaluate
+mterm
+mevalvalue
+prbool
+result
+prtrue
+prbool
+result
+prtrue
+mleftchild
+result
+mleftchild
+offlineevaluate
+mboolop
+nsmsgsearchbooleanop
+booleanor
+result
+mboolop
+nsmsgsearchbooleanop
+booleanand
+result
+result
+mrightchild
+result
+mrightchild
+offlineevaluate
+mboolop
+nsmsgsearchbooleanop
+booleanor
+result
+result
+prtrue
+prfalse
+mboolop
+nsmsgsearchbooleanop
+booleanand
+result
+result
+prtrue
+prfalse
+sizeoforterm
+sizeofandterm
+print
+nsmsgsearchboolexpression
+calcencodestrsize
+mterm
+mleftchild
+mrightchild
+mterm
+mencodingstr
+length
+mboolop
+nsmsgsearchbooleanop
+booleanor
+sizeoforterm
+mleftchild
+calcencodestrsize
+mrightchild
+calcencodestrsize
+mboolop
+nsmsgsearchbooleanop
+booleanand
+sizeofandterm
+mleftchild
+calcencodestrsize
+mrightchild
+calcencodestrsize
+nsmsgsearchboolexpression
+generateencodestr
+nscstring
+buffer
+mterm
+mleftchild
+mrightchild
+mterm
+buffer
+mencodingstr
+mboolop
+nsmsgsearchbooleanop
+booleanor
+buffer
+or
+mleftchild
+generateencodestr
+buffer
+mrightchild
+generateencodestr
+buffer
+pruint
+lastcharpos
+buffer
+length
+buffer
+charat
+lastcharpos
+buffer
+truncate
+lastcharpos
+buffer
+mboolop
+nsmsgsearchbooleanop
+booleanand
+mleftchild
+generateencodestr
+buffer
+mrightchild
+generateencodestr
+buffer
+nsimplisupportsinherited
+nsmsgsearchofflinemail
+nsmsgsearchadapter
+nsiurllistener
+nsmsgsearchofflinemail
+nsmsgsearchofflinemail
+nsimsgsearchscopeterm
+scope
+nsisupportsarray
+termlist
+nsmsgsearchadapter
+scope
+termlist
+mdb
+nsnull
+mlistcontext
+nsnull
+nsmsgsearchofflinemail
+nsmsgsearchofflinemail
+cleanupscope
+nsassertion
+mdb
+db
+closed
+nsresult
+nsmsgsearchofflinemail
+validateterms
+nsresult
+err
+nsok
+err
+nsmsgsearchadapter
+validateterms
+err
+nsresult
+nsmsgsearchofflinemail
+opensummaryfile
+nscomptr
+nsimsgdatabase
+maildb
+nsresult
+err
+nsok
+ifdef
+doingfoldercachepasswords
+mscope
+mfolder
+mscope
+mfolder
+userneedstoauthenticateforfolder
+prfalse
+mscope
+mfolder
+getmaster
+promptforhostpassword
+mscope
+mframe
+getcontext
+mscope
+mfolder
+mscope
+mframe
+stoprunning
+searcherrorscopedone
+endif
+nscomptr
+nsidbfolderinfo
+folderinfo
+nscomptr
+nsimsgfolder
+scopefolder
+err
+mscope
+getfolder
+getteraddrefs
+scopefolder
+nssucceeded
+err
+scopefolder
+err
+scopefolder
+getdbfolderinfoanddb
+getteraddrefs
+folderinfo
+mdb
+err
+err
+nsok
+nsmsgerrorfoldersummarymissing
+nsmsgerrorfoldersummaryoutofdate
+nscomptr
+nsimsglocalmailfolder
+localfolder
+doqueryinterface
+scopefolder
+err
+nssucceeded
+err
+localfolder
+nscomptr
+nsimsgsearchsession
+searchsession
+mscope
+getsearchsession
+getteraddrefs
+searchsession
+searchsession
+nscomptr
+nsimsgwindow
+searchwindow
+searchsession
+getwindow
+getteraddrefs
+searchwindow
+searchsession
+pausesearch
+localfolder
+parsefolder
+searchwindow
+nsassertion
+prfalse
+unexpected
+error
+opening
+db
+err
+nsresult
+nsmsgsearchofflinemail
+matchtermsforfilter
+nsimsgdbhdr
+msgtomatch
+nsisupportsarray
+termlist
+defaultcharset
+nsimsgsearchscopeterm
+scope
+nsimsgdatabase
+db
+headers
+pruint
+headersize
+prbool
+presult
+matchterms
+msgtomatch
+termlist
+defaultcharset
+scope
+db
+headers
+headersize
+prtrue
+presult
+nsresult
+nsmsgsearchofflinemail
+matchtermsforsearch
+nsimsgdbhdr
+msgtomatch
+nsisupportsarray
+termlist
+defaultcharset
+nsimsgsearchscopeterm
+scope
+nsimsgdatabase
+db
+prbool
+presult
+matchterms
+msgtomatch
+termlist
+defaultcharset
+scope
+db
+nsnull
+prfalse
+presult
+nsresult
+nsmsgsearchofflinemail
+constructexpressiontree
+nsimsgdbhdr
+msgtomatch
+nsisupportsarray
+termlist
+pruint
+astartposinlist
+defaultcharset
+nsimsgsearchscopeterm
+scope
+nsimsgdatabase
+db
+headers
+pruint
+headersize
+prbool
+filtering
+nsmsgsearchboolexpression
+aexpressiontree
+prbool
+presult
+prbool
+result
+nsensureargpointer
+presult
+presult
+prfalse
+pruint
+msgflags
+msgtomatch
+getflags
+msgflags
+msgflags
+msgflagexpunged
+result
+prfalse
+pruint
+count
+termlist
+count
+count
+nsmsgsearchboolexpression
+finalexpression
+nsmsgsearchboolexpression
+astartposinlist
+count
+nscomptr
+nsimsgsearchterm
+pterm
+termlist
+queryelementat
+astartposinlist
+nsgetiid
+nsimsgsearchterm
+getteraddrefs
+pterm
+nsassertion
+msgtomatch
+couldn
+get
+term
+to
+match
+prbool
+beginsgrouping
+prbool
+endsgrouping
+pterm
+getbeginsgrouping
+beginsgrouping
+pterm
+getendsgrouping
+endsgrouping
+beginsgrouping
+pterm
+setbeginsgrouping
+prfalse
+nsmsgsearchboolexpression
+innerexpression
+nsmsgsearchboolexpression
+constructexpressiontree
+msgtomatch
+termlist
+astartposinlist
+defaultcharset
+scope
+db
+headers
+headersize
+filtering
+innerexpression
+result
+prbool
+booleanand
+pterm
+getbooleanand
+booleanand
+finalexpression
+nsmsgsearchboolexpression
+addexpressiontree
+finalexpression
+innerexpression
+booleanand
+pterm
+setbeginsgrouping
+prtrue
+processsearchterm
+msgtomatch
+pterm
+defaultcharset
+scope
+db
+headers
+headersize
+filtering
+result
+finalexpression
+nsmsgsearchboolexpression
+addsearchterm
+finalexpression
+pterm
+result
+endsgrouping
+presult
+result
+aexpressiontree
+finalexpression
+nsok
+astartposinlist
+presult
+prtrue
+aexpressiontree
+finalexpression
+nsok
+nsresult
+nsmsgsearchofflinemail
+processsearchterm
+nsimsgdbhdr
+msgtomatch
+nsimsgsearchterm
+aterm
+defaultcharset
+nsimsgsearchscopeterm
+scope
+nsimsgdatabase
+db
+headers
+pruint
+headersize
+prbool
+filtering
+prbool
+presult
+nsresult
+err
+nsok
+nsxpidlcstring
+recipients
+nsxpidlcstring
+cclist
+nsxpidlcstring
+matchstring
+nsxpidlcstring
+msgcharset
+charset
+prbool
+charsetoverride
+prfalse
+pruint
+msgflags
+prbool
+result
+nsensureargpointer
+presult
+presult
+prfalse
+nsmsgsearchattribvalue
+attrib
+aterm
+getattrib
+attrib
+msgtomatch
+getcharset
+gettercopies
+msgcharset
+charset
+msgcharset
+charset
+charset
+charset
+defaultcharset
+msgtomatch
+getflags
+msgflags
+attrib
+nsmsgsearchattrib
+sender
+msgtomatch
+getauthor
+gettercopies
+matchstring
+err
+aterm
+matchrfcstring
+matchstring
+charset
+charsetoverride
+result
+nsmsgsearchattrib
+subject
+msgtomatch
+getsubject
+gettercopies
+matchstring
+msgflags
+msgflaghasre
+nsxpidlcstring
+restring
+restring
+assign
+re
+restring
+append
+matchstring
+err
+aterm
+matchrfcstring
+restring
+charset
+charsetoverride
+result
+err
+aterm
+matchrfcstring
+matchstring
+charset
+charsetoverride
+result
+nsmsgsearchattrib
+toorcc
+prbool
+boolkeepgoing
+aterm
+getmatchallbeforedeciding
+boolkeepgoing
+msgtomatch
+getrecipients
+gettercopies
+recipients
+err
+aterm
+matchrfcstring
+recipients
+charset
+charsetoverride
+result
+boolkeepgoing
+result
+msgtomatch
+getcclist
+gettercopies
+cclist
+err
+aterm
+matchrfcstring
+cclist
+charset
+charsetoverride
+result
+nsmsgsearchattrib
+body
+nsmsgkey
+messageoffset
+pruint
+linecount
+msgtomatch
+getmessageoffset
+messageoffset
+msgtomatch
+getlinecount
+linecount
+err
+aterm
+matchbody
+scope
+messageoffset
+linecount
+charset
+msgtomatch
+db
+result
+nsmsgsearchattrib
+date
+prtime
+date
+msgtomatch
+getdate
+date
+err
+aterm
+matchdate
+date
+result
+nsmsgsearchattrib
+hasattachmentstatus
+nsmsgsearchattrib
+msgstatus
+err
+aterm
+matchstatus
+msgflags
+result
+nsmsgsearchattrib
+priority
+nsmsgpriorityvalue
+msgpriority
+msgtomatch
+getpriority
+msgpriority
+err
+aterm
+matchpriority
+msgpriority
+result
+nsmsgsearchattrib
+size
+pruint
+messagesize
+msgtomatch
+getmessagesize
+messagesize
+err
+aterm
+matchsize
+messagesize
+result
+nsmsgsearchattrib
+to
+msgtomatch
+getrecipients
+gettercopies
+recipients
+err
+aterm
+matchrfcstring
+recipients
+charset
+charsetoverride
+result
+nsmsgsearchattrib
+cc
+msgtomatch
+getcclist
+gettercopies
+cclist
+err
+aterm
+matchrfcstring
+cclist
+charset
+charsetoverride
+result
+nsmsgsearchattrib
+ageindays
+prtime
+date
+msgtomatch
+getdate
+date
+err
+aterm
+matchage
+date
+result
+nsmsgsearchattrib
+label
+nsmsglabelvalue
+label
+msgtomatch
+getlabel
+label
+err
+aterm
+matchlabel
+label
+result
+nsmsgsearchattrib
+junkstatus
+nsxpidlcstring
+junkscorestr
+msgtomatch
+getstringproperty
+junkscore
+gettercopies
+junkscorestr
+err
+aterm
+matchjunkstatus
+junkscorestr
+result
+attrib
+nsmsgsearchattrib
+otherheader
+attrib
+nsmsgsearchattrib
+knummsgsearchattributes
+pruint
+linecount
+msgtomatch
+getlinecount
+linecount
+nsmsgkey
+messagekey
+msgtomatch
+getmessageoffset
+messagekey
+err
+aterm
+matcharbitraryheader
+scope
+messagekey
+linecount
+charset
+charsetoverride
+msgtomatch
+db
+headers
+headersize
+filtering
+result
+err
+nserrorinvalidarg
+presult
+result
+nsok
+nsresult
+nsmsgsearchofflinemail
+matchterms
+nsimsgdbhdr
+msgtomatch
+nsisupportsarray
+termlist
+defaultcharset
+nsimsgsearchscopeterm
+scope
+nsimsgdatabase
+db
+headers
+pruint
+headersize
+prbool
+filtering
+prbool
+presult
+nsmsgsearchboolexpression
+expressiontree
+nsnull
+pruint
+initialpos
+nsresult
+err
+constructexpressiontree
+msgtomatch
+termlist
+initialpos
+defaultcharset
+scope
+db
+headers
+headersize
+filtering
+expressiontree
+presult
+nssucceeded
+err
+expressiontree
+presult
+expressiontree
+offlineevaluate
+expressiontree
+err
+nsresult
+nsmsgsearchofflinemail
+search
+prbool
+adone
+nsresult
+err
+nsok
+nsensurearg
+adone
+nsresult
+dberr
+nsok
+nscomptr
+nsimsgdbhdr
+msgdbhdr
+pruint
+ktimesliceinms
+adone
+prfalse
+mdb
+err
+opensummaryfile
+mdb
+err
+nssucceeded
+err
+mlistcontext
+dberr
+mdb
+enumeratemessages
+getteraddrefs
+mlistcontext
+nssucceeded
+dberr
+mlistcontext
+printervaltime
+starttime
+printervalnow
+adone
+nscomptr
+nsisupports
+currentitem
+dberr
+mlistcontext
+getnext
+getteraddrefs
+currentitem
+nssucceeded
+dberr
+msgdbhdr
+doqueryinterface
+currentitem
+dberr
+nsfailed
+dberr
+adone
+prtrue
+prbool
+match
+prfalse
+nsxpidlstring
+nullcharset
+foldercharset
+getsearchcharsets
+gettercopies
+nullcharset
+gettercopies
+foldercharset
+nsconvertucstoutf
+charset
+foldercharset
+err
+matchtermsforsearch
+msgdbhdr
+msearchterms
+charset
+get
+mscope
+mdb
+match
+nssucceeded
+err
+match
+addresultelement
+msgdbhdr
+printervaltime
+elapsedtime
+llsub
+elapsedtime
+printervalnow
+starttime
+printervaltomilliseconds
+elapsedtime
+ktimesliceinms
+adone
+prtrue
+adone
+cleanupscope
+err
+nsmsgsearchofflinemail
+cleanupscope
+mdb
+mlistcontext
+nsnull
+mdb
+close
+prfalse
+mdb
+nsnull
+nscomptr
+nsifilespec
+filespec
+nsresult
+rv
+mscope
+getmailpath
+getteraddrefs
+filespec
+prbool
+isopen
+prfalse
+nssucceeded
+rv
+filespec
+filespec
+isstreamopen
+isopen
+isopen
+filespec
+closestream
+nsimethodimp
+nsmsgsearchofflinemail
+addresultelement
+nsimsgdbhdr
+pheaders
+nsresult
+err
+nsok
+nscomptr
+nsimsgsearchsession
+searchsession
+mscope
+getsearchsession
+getteraddrefs
+searchsession
+searchsession
+nscomptr
+nsimsgfolder
+scopefolder
+err
+mscope
+getfolder
+getteraddrefs
+scopefolder
+searchsession
+addsearchhit
+pheaders
+scopefolder
+err
+nsimethodimp
+nsmsgsearchofflinemail
+abort
+mdb
+mdb
+close
+prtrue
+mdb
+nsnull
+nsmsgsearchadapter
+abort
+nsimethodimp
+nsmsgsearchofflinemail
+onstartrunningurl
+nsiuri
+url
+nsok
+nsimethodimp
+nsmsgsearchofflinemail
+onstoprunningurl
+nsiuri
+url
+nsresult
+aexitcode
+nscomptr
+nsimsgsearchsession
+searchsession
+mscope
+getsearchsession
+getteraddrefs
+searchsession
+searchsession
+searchsession
+resumesearch
+nsok
+nsmsgsearchofflinenews
+nsmsgsearchofflinenews
+nsimsgsearchscopeterm
+scope
+nsisupportsarray
+termlist
+nsmsgsearchofflinemail
+scope
+termlist
+nsmsgsearchofflinenews
+nsmsgsearchofflinenews
+nsresult
+nsmsgsearchofflinenews
+opensummaryfile
+nsresult
+err
+nsok
+nscomptr
+nsidbfolderinfo
+folderinfo
+nscomptr
+nsimsgfolder
+scopefolder
+err
+mscope
+getfolder
+getteraddrefs
+scopefolder
+nssucceeded
+err
+scopefolder
+err
+scopefolder
+getmsgdatabase
+nsnull
+mdb
+err
+nsresult
+nsmsgsearchofflinenews
+validateterms
+nsmsgsearchofflinemail
+validateterms
+nsresult
+nsmsgsearchvaliditymanager
+initlocalnewstable
+nsassertion
+nsnull
+mlocalnewstable
+already
+have
+local
+news
+validty
+table
+nsresult
+err
+newtable
+getteraddrefs
+mlocalnewstable
+nssucceeded
+err
+mlocalnewstable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+contains
+mlocalnewstable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+contains
+mlocalnewstable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+is
+mlocalnewstable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+is
+mlocalnewstable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+beginswith
+mlocalnewstable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+beginswith
+mlocalnewstable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+endswith
+mlocalnewstable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+endswith
+mlocalnewstable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+contains
+mlocalnewstable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+contains
+mlocalnewstable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+is
+mlocalnewstable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+is
+mlocalnewstable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+beginswith
+mlocalnewstable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+beginswith
+mlocalnewstable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+endswith
+mlocalnewstable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+endswith
+mlocalnewstable
+setavailable
+nsmsgsearchattrib
+body
+nsmsgsearchop
+contains
+mlocalnewstable
+setenabled
+nsmsgsearchattrib
+body
+nsmsgsearchop
+contains
+mlocalnewstable
+setavailable
+nsmsgsearchattrib
+body
+nsmsgsearchop
+doesntcontain
+mlocalnewstable
+setenabled
+nsmsgsearchattrib
+body
+nsmsgsearchop
+doesntcontain
+mlocalnewstable
+setavailable
+nsmsgsearchattrib
+body
+nsmsgsearchop
+is
+mlocalnewstable
+setenabled
+nsmsgsearchattrib
+body
+nsmsgsearchop
+is
+mlocalnewstable
+setavailable
+nsmsgsearchattrib
+body
+nsmsgsearchop
+isnt
+mlocalnewstable
+setenabled
+nsmsgsearchattrib
+body
+nsmsgsearchop
+isnt
+mlocalnewstable
+setenabled
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isbefore
+mlocalnewstable
+setavailable
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isafter
+mlocalnewstable
+setenabled
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isafter
+mlocalnewstable
+setavailable
+nsmsgsearchattrib
+date
+nsmsgsearchop
+is
+mlocalnewstable
+setenabled
+nsmsgsearchattrib
+date
+nsmsgsearchop
+is
+mlocalnewstable
+setavailable
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isnt
+mlocalnewstable
+setenabled
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isnt
+mlocalnewstable
+setavailable
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+isgreaterthan
+mlocalnewstable
+setenabled
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+isgreaterthan
+mlocalnewstable
+setavailable
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+islessthan
+mlocalnewstable
+setenabled
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+islessthan
+mlocalnewstable
+setavailable
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+is
+mlocalnewstable
+setenabled
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+is
+mlocalnewstable
+setavailable
+nsmsgsearchattrib
+msgstatus
+nsmsgsearchop
+is
+mlocalnewstable
+setenabled
+nsmsgsearchattrib
+msgstatus
+nsmsgsearchop
+is
+mlocalnewstable
+setavailable
+nsmsgsearchattrib
+msgstatus
+nsmsgsearchop
+isnt
+mlocalnewstable
+setenabled
+nsmsgsearchattrib
+msgstatus
+nsmsgsearchop
+isnt
+mlocalnewstable
+setavailable
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+contains
+mlocalnewstable
+setenabled
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+contains
+mlocalnewstable
+setavailable
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+is
+mlocalnewstable
+setenabled
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+is
+mlocalnewstable
+setavailable
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+beginswith
+mlocalnewstable
+setenabled
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+beginswith
+mlocalnewstable
+setavailable
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+endswith
+mlocalnewstable
+setenabled
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+endswith
+err
\ No newline at end of file
@@ -0,0 +1,1928 @@
+msgcore
+nstextformatter
+nsmsgsearchcore
+nsmsgsearchadapter
+nsmsgsearchscopeterm
+nsmsgin
+nsipref
+nsxpidlstring
+nsreadableutils
+nsmsgsearchterm
+nsmsgsearchboolexpression
+nsiioservice
+nsnetcid
+prprf
+nsmsgsearchadapter
+mkimapbefore
+sentbefore
+nsmsgsearchadapter
+mkimapbody
+body
+nsmsgsearchadapter
+mkimapcc
+cc
+nsmsgsearchadapter
+mkimapfrom
+from
+nsmsgsearchadapter
+mkimapnot
+not
+nsmsgsearchadapter
+mkimapundeleted
+undeleted
+nsmsgsearchadapter
+mkimapor
+or
+nsmsgsearchadapter
+mkimapsince
+sentsince
+nsmsgsearchadapter
+mkimapsubject
+subject
+nsmsgsearchadapter
+mkimapto
+to
+nsmsgsearchadapter
+mkimapheader
+header
+nsmsgsearchadapter
+mkimapanytext
+text
+nsmsgsearchadapter
+mkimapkeyword
+keyword
+nsmsgsearchadapter
+mknntpkeywords
+keywords
+nsmsgsearchadapter
+mkimapsenton
+senton
+nsmsgsearchadapter
+mkimapseen
+seen
+nsmsgsearchadapter
+mkimapanswered
+answered
+nsmsgsearchadapter
+mkimapnotseen
+unseen
+nsmsgsearchadapter
+mkimapnotanswered
+unanswered
+nsmsgsearchadapter
+mkimapcharset
+charset
+nsdefinecid
+kioservicecid
+nsioservicecid
+define
+prefcustomheaders
+mailnews
+customheaders
+nsimethodimp
+nsmsgsearchadapter
+findtargetfolder
+nsmsgresultelement
+nsimsgfolder
+nserrornotimplemented
+nsimethodimp
+nsmsgsearchadapter
+modifyresultelement
+nsmsgresultelement
+nsmsgsearchvalue
+nserrornotimplemented
+nsimethodimp
+nsmsgsearchadapter
+openresultelement
+nsmsgresultelement
+nserrornotimplemented
+nsimplisupports
+nsmsgsearchadapter
+nsimsgsearchadapter
+nsmsgsearchadapter
+nsmsgsearchadapter
+nsimsgsearchscopeterm
+scope
+nsisupportsarray
+searchterms
+msearchterms
+searchterms
+mscope
+scope
+nsmsgsearchadapter
+nsmsgsearchadapter
+nsimethodimp
+nsmsgsearchadapter
+validateterms
+nsok
+nsimethodimp
+nsmsgsearchadapter
+abort
+nserrornotimplemented
+nsimethodimp
+nsmsgsearchadapter
+search
+prbool
+adone
+nsok
+nsimethodimp
+nsmsgsearchadapter
+sendurl
+nsok
+nsimethodimp
+nsmsgsearchadapter
+currenturldone
+print
+exitcode
+nsok
+nsimethodimp
+nsmsgsearchadapter
+getencoding
+encoding
+nsok
+nsimethodimp
+nsmsgsearchadapter
+addresultelement
+nsimsgdbhdr
+pheaders
+nsassertion
+prfalse
+shouldn
+call
+base
+impl
+nserrorfailure
+nsimethodimp
+nsmsgsearchadapter
+addhit
+nsmsgkey
+key
+nsassertion
+prfalse
+shouldn
+call
+base
+impl
+nserrorfailure
+nsmsgsearchadapter
+getimapcharsetparam
+prunichar
+destcharset
+result
+nsnull
+nscrt
+strcmp
+destcharset
+nsliteralstring
+us
+ascii
+get
+result
+prsmprintf
+nsmsgsearchadapter
+mkimapcharset
+nsconvertucstoutf
+destcharset
+get
+result
+prunichar
+nsmsgsearchadapter
+escapesearchurl
+prunichar
+nntpcommand
+nscrt
+strdup
+nntpcommand
+prunichar
+result
+nsnull
+prunichar
+scratchbuf
+prunichar
+prmalloc
+prunichar
+nscrt
+strlen
+nntpcommand
+scratchbuf
+prunichar
+scratchptr
+scratchbuf
+prtrue
+prunichar
+ch
+nntpcommand
+ch
+ch
+ch
+ch
+ch
+scratchptr
+nstextformatter
+snprintf
+scratchptr
+nsliteralstring
+get
+ch
+scratchptr
+scratchptr
+ch
+scratchptr
+result
+nscrt
+strdup
+scratchbuf
+nscrt
+free
+scratchbuf
+result
+endif
+prunichar
+nsmsgsearchadapter
+escapeimapsearchprotocol
+prunichar
+imapcommand
+nscrt
+strdup
+imapcommand
+prunichar
+result
+nsnull
+prunichar
+scratchbuf
+prunichar
+prmalloc
+prunichar
+nscrt
+strlen
+imapcommand
+scratchbuf
+prunichar
+scratchptr
+scratchbuf
+prunichar
+ch
+imapcommand
+ch
+ch
+prunichar
+scratchptr
+prunichar
+scratchptr
+prunichar
+scratchptr
+ch
+scratchptr
+result
+nscrt
+strdup
+scratchbuf
+nscrt
+free
+scratchbuf
+result
+endif
+prunichar
+nsmsgsearchadapter
+escapequoteimapsearchprotocol
+prunichar
+imapcommand
+nscrt
+strdup
+imapcommand
+prunichar
+result
+nsnull
+prunichar
+scratchbuf
+prunichar
+prmalloc
+prunichar
+nscrt
+strlen
+imapcommand
+scratchbuf
+prunichar
+scratchptr
+scratchbuf
+prunichar
+ch
+imapcommand
+ch
+ch
+scratchptr
+scratchptr
+scratchptr
+ch
+scratchptr
+result
+nscrt
+strdup
+scratchbuf
+nscrt
+free
+scratchbuf
+result
+endif
+nsmsgsearchadapter
+unescapesearchurl
+commandspecificdata
+result
+prmalloc
+strlen
+commandspecificdata
+result
+resultptr
+result
+ch
+commandspecificdata
+ch
+ch
+scratchbuf
+scratchbuf
+commandspecificdata
+scratchbuf
+commandspecificdata
+scratchbuf
+accum
+sscanf
+scratchbuf
+accum
+resultptr
+accum
+resultptr
+ch
+resultptr
+result
+nsresult
+nsmsgsearchadapter
+getsearchcharsets
+prunichar
+srccharset
+prunichar
+dstcharset
+nsresult
+rv
+nsensurearg
+srccharset
+nsensurearg
+dstcharset
+mdefaultcharset
+isempty
+mforceasciisearch
+prfalse
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nssucceeded
+rv
+rv
+prefs
+getlocalizedunicharpref
+mailnews
+viewdefaultcharset
+gettercopies
+mdefaultcharset
+rv
+prefs
+getboolpref
+mailnews
+forceasciisearch
+mforceasciisearch
+srccharset
+nscrt
+strdup
+mdefaultcharset
+isempty
+nsliteralstring
+iso
+get
+mdefaultcharset
+get
+dstcharset
+nscrt
+strdup
+srccharset
+mscope
+nscomptr
+nsimsgfolder
+folder
+rv
+mscope
+getfolder
+getteraddrefs
+folder
+nssucceeded
+rv
+folder
+nsxpidlcstring
+foldercharset
+folder
+getcharset
+gettercopies
+foldercharset
+dstcharset
+tonewunicode
+foldercharset
+nscrt
+strcmp
+dstcharset
+mdefaultcharset
+get
+dstcharset
+nscrt
+strdup
+srccharset
+mforceasciisearch
+dstcharset
+nscrt
+strdup
+nsliteralstring
+us
+ascii
+get
+nsok
+nsresult
+nsmsgsearchadapter
+encodeimapterm
+nsimsgsearchterm
+term
+prbool
+reallydredd
+prunichar
+srccharset
+prunichar
+destcharset
+ppoutterm
+nsresult
+err
+nsok
+prbool
+usenot
+prfalse
+prbool
+usequotes
+prfalse
+prbool
+excludeheader
+prfalse
+prbool
+ignorevalue
+prfalse
+arbitraryheader
+nsnull
+whichmnemonic
+nsnull
+orheadermnemonic
+nsnull
+ppoutterm
+nsnull
+nscomptr
+nsimsgsearchvalue
+searchvalue
+nsresult
+rv
+term
+getvalue
+getteraddrefs
+searchvalue
+nsfailed
+rv
+rv
+nsmsgsearchopvalue
+op
+term
+getop
+op
+op
+nsmsgsearchop
+doesntcontain
+op
+nsmsgsearchop
+isnt
+usenot
+prtrue
+nsmsgsearchattribvalue
+attrib
+term
+getattrib
+attrib
+attrib
+nsmsgsearchattrib
+toorcc
+orheadermnemonic
+mkimapcc
+nsmsgsearchattrib
+to
+whichmnemonic
+mkimapto
+nsmsgsearchattrib
+cc
+whichmnemonic
+mkimapcc
+nsmsgsearchattrib
+sender
+whichmnemonic
+mkimapfrom
+nsmsgsearchattrib
+subject
+whichmnemonic
+mkimapsubject
+nsmsgsearchattrib
+body
+whichmnemonic
+mkimapbody
+excludeheader
+prtrue
+nsmsgsearchattrib
+ageindays
+op
+nsmsgsearchop
+isgreaterthan
+whichmnemonic
+mkimapbefore
+nsmsgsearchop
+islessthan
+whichmnemonic
+mkimapsince
+nsmsgsearchop
+is
+whichmnemonic
+mkimapsenton
+nsassertion
+prfalse
+invalid
+search
+nserrorinvalidarg
+excludeheader
+prtrue
+nsmsgsearchattrib
+date
+op
+nsmsgsearchop
+isbefore
+whichmnemonic
+mkimapbefore
+nsmsgsearchop
+isafter
+whichmnemonic
+mkimapsince
+nsmsgsearchop
+isnt
+nsmsgsearchop
+is
+whichmnemonic
+mkimapsenton
+nsassertion
+prfalse
+invalid
+search
+nserrorinvalidarg
+excludeheader
+prtrue
+nsmsgsearchattrib
+anytext
+whichmnemonic
+mkimapanytext
+excludeheader
+prtrue
+nsmsgsearchattrib
+keywords
+whichmnemonic
+mknntpkeywords
+nsmsgsearchattrib
+msgstatus
+usenot
+prfalse
+ignorevalue
+prtrue
+excludeheader
+prtrue
+pruint
+status
+searchvalue
+getstatus
+status
+status
+msgflagread
+whichmnemonic
+op
+nsmsgsearchop
+is
+mkimapseen
+mkimapnotseen
+msgflagreplied
+whichmnemonic
+op
+nsmsgsearchop
+is
+mkimapanswered
+mkimapnotanswered
+nsassertion
+prfalse
+invalid
+search
+nserrorinvalidarg
+attrib
+nsmsgsearchattrib
+otherheader
+attrib
+nsmsgsearchattrib
+knummsgsearchattributes
+nsxpidlcstring
+arbitraryheaderterm
+term
+getarbitraryheader
+gettercopies
+arbitraryheaderterm
+arbitraryheaderterm
+isempty
+arbitraryheader
+strlen
+arbitraryheaderterm
+arbitraryheader
+nserroroutofmemory
+arbitraryheader
+plstrcat
+arbitraryheader
+plstrcat
+arbitraryheader
+arbitraryheaderterm
+plstrcat
+arbitraryheader
+whichmnemonic
+arbitraryheader
+nserrorfailure
+nsassertion
+prfalse
+invalid
+search
+nserrorinvalidarg
+value
+datebuf
+datebuf
+prbool
+valuewasallocated
+prfalse
+attrib
+nsmsgsearchattrib
+date
+prtime
+adjusteddate
+searchvalue
+getdate
+adjusteddate
+whichmnemonic
+mkimapsince
+print
+microsecondspersecond
+secondsinday
+microsecondsinday
+llil
+microsecondspersecond
+prusecpersec
+lluil
+secondsinday
+llmul
+microsecondsinday
+secondsinday
+microsecondspersecond
+lladd
+adjusteddate
+adjusteddate
+microsecondsinday
+prexplodedtime
+exploded
+prexplodetime
+adjusteddate
+prlocaltimeparameters
+exploded
+prformattimeusenglish
+datebuf
+datebuf
+exploded
+value
+datebuf
+attrib
+nsmsgsearchattrib
+ageindays
+pruint
+ageindays
+searchvalue
+getage
+ageindays
+prtime
+now
+prnow
+prtime
+matchday
+print
+microsecondspersecond
+secondsindays
+microsecondsinday
+llil
+microsecondspersecond
+prusecpersec
+lluil
+secondsindays
+ageindays
+llmul
+microsecondsinday
+secondsindays
+microsecondspersecond
+llsub
+matchday
+now
+microsecondsinday
+prexplodedtime
+exploded
+prexplodetime
+matchday
+prlocaltimeparameters
+exploded
+prformattimeusenglish
+datebuf
+datebuf
+exploded
+value
+datebuf
+isstringattribute
+attrib
+prunichar
+convertedvalue
+nsxpidlstring
+searchtermvalue
+searchvalue
+getstr
+gettercopies
+searchtermvalue
+ifdef
+doingcharset
+reallydredd
+destcsid
+intldefaultnewscharsetid
+destcsid
+destcsid
+intldefaultmailcharsetid
+destcsid
+endif
+convertedvalue
+reallydredd
+escapesearchurl
+searchtermvalue
+escapeimapsearchprotocol
+searchtermvalue
+usequotes
+reallydredd
+nsautostring
+convertedvalue
+findchar
+prunichar
+nsresult
+rv
+convertfromunicode
+nsconvertucstoutf
+destcharset
+get
+nsautostring
+convertedvalue
+value
+nssucceeded
+rv
+value
+oldvalue
+value
+newvalue
+prmalloc
+strlen
+value
+newvalue
+newvalue
+ch
+value
+ch
+usequotes
+ch
+ch
+ch
+value
+nscrt
+strdup
+newvalue
+nscrt
+free
+newvalue
+nscrt
+free
+oldvalue
+value
+nscrt
+strdup
+nscrt
+free
+convertedvalue
+valuewasallocated
+prtrue
+len
+strlen
+whichmnemonic
+strlen
+value
+usenot
+strlen
+mkimapnot
+usequotes
+strlen
+mkimapheader
+orheadermnemonic
+strlen
+mkimapheader
+strlen
+mkimapor
+usenot
+strlen
+mkimapnot
+strlen
+orheadermnemonic
+strlen
+value
+encoding
+len
+encoding
+encoding
+orheadermnemonic
+usenot
+plstrcat
+encoding
+mkimapor
+usenot
+plstrcat
+encoding
+mkimapnot
+excludeheader
+plstrcat
+encoding
+mkimapheader
+plstrcat
+encoding
+whichmnemonic
+ignorevalue
+err
+encodeimapvalue
+encoding
+value
+usequotes
+reallydredd
+orheadermnemonic
+usenot
+plstrcat
+encoding
+mkimapnot
+plstrcat
+encoding
+mkimapheader
+plstrcat
+encoding
+orheadermnemonic
+ignorevalue
+err
+encodeimapvalue
+encoding
+value
+usequotes
+reallydredd
+encoding
+encoding
+strlen
+encoding
+encoding
+strlen
+encoding
+value
+valuewasallocated
+prfree
+value
+arbitraryheader
+arbitraryheader
+ppoutterm
+encoding
+err
+nsresult
+nsmsgsearchadapter
+encodeimapvalue
+encoding
+value
+prbool
+usequotes
+prbool
+reallydredd
+reallydredd
+value
+value
+nserrornullpointer
+usequotes
+plstrcat
+encoding
+plstrcat
+encoding
+value
+usequotes
+plstrcat
+encoding
+nsok
+nsresult
+nsmsgsearchadapter
+encodeimap
+ppoutencoding
+nsisupportsarray
+searchterms
+prunichar
+srccharset
+prunichar
+destcharset
+prbool
+reallydredd
+nsresult
+err
+nsok
+ppoutencoding
+nsnull
+pruint
+termcount
+searchterms
+count
+termcount
+pruint
+encodinglength
+termencodings
+termcount
+termencodings
+nserroroutofmemory
+nsmsgsearchboolexpression
+expression
+nsmsgsearchboolexpression
+expression
+nserroroutofmemory
+termcount
+nssucceeded
+err
+nscomptr
+nsimsgsearchterm
+pterm
+searchterms
+queryelementat
+nsgetiid
+nsimsgsearchterm
+getteraddrefs
+pterm
+err
+encodeimapterm
+pterm
+reallydredd
+srccharset
+destcharset
+termencodings
+nssucceeded
+err
+nsnull
+termencodings
+encodinglength
+strlen
+termencodings
+expression
+nsmsgsearchboolexpression
+addsearchtermwithencoding
+expression
+pterm
+termencodings
+nssucceeded
+err
+totalencoding
+encodinglength
+reallydredd
+strlen
+mkimapundeleted
+nscstring
+encodingbuff
+totalencoding
+totalencoding
+offset
+reallydredd
+plstrcat
+totalencoding
+mkimapundeleted
+reallydredd
+encodingbuff
+append
+mkimapundeleted
+offset
+strlen
+mkimapundeleted
+expression
+generateencodestr
+encodingbuff
+termcount
+termencodings
+plstrcat
+totalencoding
+termencodings
+termencodings
+err
+nserroroutofmemory
+totalencoding
+expression
+nssucceeded
+err
+ppoutencoding
+tonewcstring
+encodingbuff
+termencodings
+err
+nsmsgsearchadapter
+transformspacestostars
+spacestring
+msgtransformtype
+transformtype
+starstring
+transformtype
+koverwrite
+starstring
+nscrt
+strdup
+spacestring
+nsnull
+star
+starstring
+star
+plstrchr
+star
+nsnull
+star
+count
+count
+spacestring
+spacestring
+count
+spacestring
+spacestring
+transformtype
+ksurround
+count
+count
+starstring
+prmalloc
+count
+nsnull
+spacestring
+spacestring
+starstring
+starstring
+transformtype
+ksurround
+starstring
+spacestring
+spacestring
+starstring
+spacestring
+starstring
+starstring
+nscrt
+strdup
+spacestring
+starstring
+nsmsgsearchvaliditytable
+nsmsgsearchvaliditytable
+nsmsgsearchattrib
+knummsgsearchattributes
+nsmsgsearchop
+knummsgsearchoperators
+setavailable
+prfalse
+setenabled
+prfalse
+setvalidbutnotshown
+prfalse
+mnumavailattribs
+mdefaultattrib
+nsmsgsearchattrib
+subject
+nsimplisupports
+nsmsgsearchvaliditytable
+nsimsgsearchvaliditytable
+nsresult
+nsmsgsearchvaliditytable
+getnumavailattribs
+print
+aresult
+mnumavailattribs
+nsmsgsearchattrib
+knummsgsearchattributes
+nsmsgsearchop
+knummsgsearchoperators
+prbool
+available
+getavailable
+available
+available
+mnumavailattribs
+aresult
+mnumavailattribs
+nsok
+nsresult
+nsmsgsearchvaliditytable
+validateterms
+nsisupportsarray
+searchterms
+nsresult
+err
+nsok
+pruint
+count
+nsensurearg
+searchterms
+searchterms
+count
+count
+pruint
+count
+nscomptr
+nsimsgsearchterm
+pterm
+searchterms
+queryelementat
+nsgetiid
+nsimsgsearchterm
+getteraddrefs
+pterm
+nsimsgsearchterm
+iterm
+pterm
+nsmsgsearchterm
+term
+nsstaticcast
+nsmsgsearchterm
+iterm
+prbool
+enabled
+prbool
+available
+getenabled
+term
+mattribute
+term
+moperator
+enabled
+getavailable
+term
+mattribute
+term
+moperator
+available
+enabled
+available
+prbool
+validnotshown
+getvalidbutnotshown
+term
+mattribute
+term
+moperator
+validnotshown
+validnotshown
+err
+nsmsgerrorinvalidsearchscope
+err
+nsresult
+nsmsgsearchvaliditytable
+getavailableattributes
+pruint
+length
+nsmsgsearchattribvalue
+aresult
+pruint
+totalattributes
+print
+nsmsgsearchattrib
+knummsgsearchattributes
+nsmsgsearchop
+knummsgsearchoperators
+mtable
+bitavailable
+totalattributes
+nsmsgsearchattribvalue
+array
+nsmsgsearchattribvalue
+nsmemory
+alloc
+nsmsgsearchattribvalue
+totalattributes
+nsensuretrue
+array
+nserroroutofmemory
+pruint
+numstored
+nsmsgsearchattrib
+knummsgsearchattributes
+nsmsgsearchop
+knummsgsearchoperators
+mtable
+bitavailable
+array
+numstored
+nsassertion
+totalattributes
+numstored
+search
+attributes
+lining
+up
+length
+totalattributes
+aresult
+array
+nsok
+nsresult
+nsmsgsearchvaliditytable
+getavailableoperators
+nsmsgsearchattribvalue
+aattribute
+pruint
+alength
+nsmsgsearchopvalue
+aresult
+nsmsgsearchattribvalue
+attr
+aattribute
+nsmsgsearchattrib
+default
+attr
+mdefaultattrib
+attr
+aattribute
+pruint
+totaloperators
+print
+nsmsgsearchop
+knummsgsearchoperators
+mtable
+attr
+bitavailable
+totaloperators
+nsmsgsearchopvalue
+array
+nsmsgsearchopvalue
+nsmemory
+alloc
+nsmsgsearchopvalue
+totaloperators
+nsensuretrue
+array
+nserroroutofmemory
+pruint
+numstored
+nsmsgsearchop
+knummsgsearchoperators
+mtable
+attr
+bitavailable
+array
+numstored
+nsassertion
+totaloperators
+numstored
+search
+operators
+lining
+up
+alength
+totaloperators
+aresult
+array
+nsok
+nsimethodimp
+nsmsgsearchvaliditytable
+setdefaultattrib
+nsmsgsearchattribvalue
+aattribute
+mdefaultattrib
+aattribute
+nsok
+nsmsgsearchvaliditymanager
+nsmsgsearchvaliditymanager
+nsmsgsearchvaliditymanager
+nsmsgsearchvaliditymanager
+nsimplisupports
+nsmsgsearchvaliditymanager
+nsimsgsearchvaliditymanager
+nsimethodimp
+nsmsgsearchvaliditymanager
+gettable
+whichtable
+nsimsgsearchvaliditytable
+ppouttable
+nsensureargpointer
+ppouttable
+nsresult
+rv
+nsok
+ppouttable
+nsnull
+nscomptr
+nsipref
+pref
+dogetservice
+nsprefcontractid
+rv
+nsxpidlcstring
+customheaders
+nssucceeded
+rv
+pref
+pref
+getcharpref
+prefcustomheaders
+gettercopies
+customheaders
+whichtable
+nsmsgsearchscope
+offlinemail
+mofflinemailtable
+rv
+initofflinemailtable
+mofflinemailtable
+rv
+setotherheadersintable
+mofflinemailtable
+customheaders
+get
+ppouttable
+mofflinemailtable
+nsmsgsearchscope
+offlinemailfilter
+mofflinemailfiltertable
+rv
+initofflinemailfiltertable
+mofflinemailfiltertable
+rv
+setotherheadersintable
+mofflinemailfiltertable
+customheaders
+get
+ppouttable
+mofflinemailfiltertable
+nsmsgsearchscope
+onlinemail
+monlinemailtable
+rv
+initonlinemailtable
+monlinemailtable
+rv
+setotherheadersintable
+monlinemailtable
+customheaders
+get
+ppouttable
+monlinemailtable
+nsmsgsearchscope
+onlinemailfilter
+monlinemailfiltertable
+rv
+initonlinemailfiltertable
+monlinemailfiltertable
+rv
+setotherheadersintable
+monlinemailfiltertable
+customheaders
+get
+ppouttable
+monlinemailfiltertable
+nsmsgsearchscope
+news
+mnewstable
+rv
+initnewstable
+ppouttable
+mnewstable
+nsmsgsearchscope
+newsfilter
+mnewsfiltertable
+rv
+initnewsfiltertable
+ppouttable
+mnewsfiltertable
+nsmsgsearchscope
+localnews
+mlocalnewstable
+rv
+initlocalnewstable
+mlocalnewstable
+rv
+setotherheadersintable
+mlocalnewstable
+customheaders
+get
+ppouttable
+mlocalnewstable
+ifdef
+doingexnewssearch
+nsmsgsearchscope
+newsex
+mnewsextable
+rv
+initnewsextable
+ppouttable
+mnewsextable
+endif
+nsmsgsearchscope
+ldap
+mldaptable
+rv
+initldaptable
+ppouttable
+mldaptable
+nsmsgsearchscope
+ldapand
+mldapandtable
+rv
+initldapandtable
+ppouttable
+mldapandtable
+nsmsgsearchscope
+localab
+mlocalabtable
+rv
+initlocalabtable
+ppouttable
+mlocalabtable
+nsmsgsearchscope
+localaband
+mlocalabandtable
+rv
+initlocalabandtable
+ppouttable
+mlocalabandtable
+nsassertion
+prfalse
+invalid
+table
+type
+rv
+nsmsgerrorinvalidsearchterm
+nsifaddref
+ppouttable
+rv
+nsresult
+nsmsgsearchvaliditymanager
+newtable
+nsimsgsearchvaliditytable
+atable
+nsensureargpointer
+atable
+atable
+nsmsgsearchvaliditytable
+atable
+nserroroutofmemory
+nsaddref
+atable
+nsok
+nsresult
+nsmsgsearchvaliditymanager
+setotherheadersintable
+nsimsgsearchvaliditytable
+atable
+customheaders
+pruint
+customheaderslength
+strlen
+customheaders
+pruint
+numheaders
+customheaderslength
+headersstring
+nscrt
+strdup
+customheaders
+nscautostring
+hdrstr
+hdrstr
+adopt
+headersstring
+hdrstr
+stripwhitespace
+newstr
+nsnull
+token
+nscrt
+strtok
+headersstring
+newstr
+token
+numheaders
+token
+nscrt
+strtok
+newstr
+newstr
+nsassertion
+nsmsgsearchattrib
+otherheader
+numheaders
+nsmsgsearchattrib
+knummsgsearchattributes
+more
+headers
+than
+the
+table
+can
+hold
+pruint
+maxhdrs
+prmin
+nsmsgsearchattrib
+otherheader
+numheaders
+nsmsgsearchattrib
+knummsgsearchattributes
+pruint
+nsmsgsearchattrib
+otherheader
+maxhdrs
+atable
+setavailable
+nsmsgsearchop
+contains
+atable
+setenabled
+nsmsgsearchop
+contains
+atable
+setavailable
+nsmsgsearchop
+doesntcontain
+atable
+setenabled
+nsmsgsearchop
+doesntcontain
+atable
+setavailable
+nsmsgsearchop
+is
+atable
+setenabled
+nsmsgsearchop
+is
+atable
+setavailable
+nsmsgsearchop
+isnt
+atable
+setenabled
+nsmsgsearchop
+isnt
+pruint
+maxhdrs
+nsmsgsearchattrib
+knummsgsearchattributes
+pruint
+nsmsgsearchop
+knummsgsearchoperators
+atable
+setavailable
+atable
+setenabled
+nsok
+nsresult
+nsmsgsearchvaliditymanager
+enabledirectoryattribute
+nsimsgsearchvaliditytable
+table
+nsmsgsearchattribvalue
+asearchattrib
+table
+setavailable
+asearchattrib
+nsmsgsearchop
+contains
+table
+setenabled
+asearchattrib
+nsmsgsearchop
+contains
+table
+setavailable
+asearchattrib
+nsmsgsearchop
+doesntcontain
+table
+setenabled
+asearchattrib
+nsmsgsearchop
+doesntcontain
+table
+setavailable
+asearchattrib
+nsmsgsearchop
+is
+table
+setenabled
+asearchattrib
+nsmsgsearchop
+is
+table
+setavailable
+asearchattrib
+nsmsgsearchop
+isnt
+table
+setenabled
+asearchattrib
+nsmsgsearchop
+isnt
+table
+setavailable
+asearchattrib
+nsmsgsearchop
+beginswith
+table
+setenabled
+asearchattrib
+nsmsgsearchop
+beginswith
+table
+setavailable
+asearchattrib
+nsmsgsearchop
+endswith
+table
+setenabled
+asearchattrib
+nsmsgsearchop
+endswith
+table
+setavailable
+asearchattrib
+nsmsgsearchop
+soundslike
+table
+setenabled
+asearchattrib
+nsmsgsearchop
+soundslike
+nsok
+nsresult
+nsmsgsearchvaliditymanager
+initldaptable
+nsassertion
+mldaptable
+don
+call
+twice
+nsresult
+rv
+newtable
+getteraddrefs
+mldaptable
+nsensuresuccess
+rv
+rv
+rv
+setupabtable
+mldaptable
+prtrue
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsmsgsearchvaliditymanager
+initldapandtable
+nsassertion
+mldapandtable
+don
+call
+twice
+nsresult
+rv
+newtable
+getteraddrefs
+mldapandtable
+nsensuresuccess
+rv
+rv
+rv
+setupabtable
+mldapandtable
+prfalse
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsmsgsearchvaliditymanager
+initlocalabtable
+nsassertion
+mlocalabtable
+don
+call
+twice
+nsresult
+rv
+newtable
+getteraddrefs
+mlocalabtable
+nsensuresuccess
+rv
+rv
+rv
+setupabtable
+mlocalabtable
+prtrue
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsmsgsearchvaliditymanager
+initlocalabandtable
+nsassertion
+mlocalabandtable
+don
+call
+twice
+nsresult
+rv
+newtable
+getteraddrefs
+mlocalabandtable
+nsensuresuccess
+rv
+rv
+rv
+setupabtable
+mlocalabandtable
+prfalse
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsmsgsearchvaliditymanager
+setupabtable
+nsimsgsearchvaliditytable
+atable
+prbool
+isortable
+nsresult
+rv
+atable
+setdefaultattrib
+isortable
+nsmsgsearchattrib
+name
+nsmsgsearchattrib
+displayname
+nsensuresuccess
+rv
+rv
+isortable
+rv
+enabledirectoryattribute
+atable
+nsmsgsearchattrib
+name
+nsensuresuccess
+rv
+rv
+rv
+enabledirectoryattribute
+atable
+nsmsgsearchattrib
+phonenumber
+nsensuresuccess
+rv
+rv
+rv
+enabledirectoryattribute
+atable
+nsmsgsearchattrib
+displayname
+nsensuresuccess
+rv
+rv
+rv
+enabledirectoryattribute
+atable
+nsmsgsearchattrib
+email
+nsensuresuccess
+rv
+rv
+rv
+enabledirectoryattribute
+atable
+nsmsgsearchattrib
+additionalemail
+nsensuresuccess
+rv
+rv
+rv
+enabledirectoryattribute
+atable
+nsmsgsearchattrib
+screenname
+nsensuresuccess
+rv
+rv
+rv
+enabledirectoryattribute
+atable
+nsmsgsearchattrib
+street
+nsensuresuccess
+rv
+rv
+rv
+enabledirectoryattribute
+atable
+nsmsgsearchattrib
+city
+nsensuresuccess
+rv
+rv
+rv
+enabledirectoryattribute
+atable
+nsmsgsearchattrib
+title
+nsensuresuccess
+rv
+rv
+rv
+enabledirectoryattribute
+atable
+nsmsgsearchattrib
+organization
+nsensuresuccess
+rv
+rv
+rv
+enabledirectoryattribute
+atable
+nsmsgsearchattrib
+department
+nsensuresuccess
+rv
+rv
+rv
+enabledirectoryattribute
+atable
+nsmsgsearchattrib
+nickname
+nsensuresuccess
+rv
+rv
+rv
+enabledirectoryattribute
+atable
+nsmsgsearchattrib
+workphone
+nsensuresuccess
+rv
+rv
+rv
+enabledirectoryattribute
+atable
+nsmsgsearchattrib
+homephone
+nsensuresuccess
+rv
+rv
+rv
+enabledirectoryattribute
+atable
+nsmsgsearchattrib
+fax
+nsensuresuccess
+rv
+rv
+rv
+enabledirectoryattribute
+atable
+nsmsgsearchattrib
+pager
+nsensuresuccess
+rv
+rv
+rv
+enabledirectoryattribute
+atable
+nsmsgsearchattrib
+mobile
+nsensuresuccess
+rv
+rv
+rv
\ No newline at end of file
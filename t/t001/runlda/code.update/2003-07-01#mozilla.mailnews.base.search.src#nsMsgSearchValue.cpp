@@ -0,0 +1,214 @@
+mailnewstypes
+nsmsgsearchvalue
+nsreadableutils
+nsisupportsobsolete
+nsmsgsearchvalueimpl
+nsmsgsearchvalueimpl
+nsmsgsearchvalue
+ainitialvalue
+mvalue
+ainitialvalue
+isstringattribute
+ainitialvalue
+attribute
+mvalue
+nscrt
+strdup
+ainitialvalue
+mvalue
+nsmsgsearchvalueimpl
+nsmsgsearchvalueimpl
+isstringattribute
+mvalue
+attribute
+nscrt
+free
+mvalue
+nsimplisupports
+nsmsgsearchvalueimpl
+nsimsgsearchvalue
+nsimplgetset
+nsmsgsearchvalueimpl
+priority
+nsmsgpriorityvalue
+mvalue
+priority
+nsimplgetset
+nsmsgsearchvalueimpl
+status
+pruint
+mvalue
+msgstatus
+nsimplgetset
+nsmsgsearchvalueimpl
+size
+pruint
+mvalue
+size
+nsimplgetset
+nsmsgsearchvalueimpl
+msgkey
+nsmsgkey
+mvalue
+key
+nsimplgetset
+nsmsgsearchvalueimpl
+age
+pruint
+mvalue
+age
+nsimplgetset
+nsmsgsearchvalueimpl
+date
+prtime
+mvalue
+date
+nsimplgetset
+nsmsgsearchvalueimpl
+attrib
+nsmsgsearchattribvalue
+mvalue
+attribute
+nsimplgetset
+nsmsgsearchvalueimpl
+label
+nsmsglabelvalue
+mvalue
+label
+nsimplgetset
+nsmsgsearchvalueimpl
+junkstatus
+pruint
+mvalue
+junkstatus
+nsimethodimp
+nsmsgsearchvalueimpl
+getfolder
+nsimsgfolder
+aresult
+nsensureargpointer
+aresult
+nsensuretrue
+mvalue
+attribute
+nsmsgsearchattrib
+folderinfo
+nserrorillegalvalue
+aresult
+mvalue
+folder
+nsifaddref
+aresult
+nsok
+nsimethodimp
+nsmsgsearchvalueimpl
+setfolder
+nsimsgfolder
+avalue
+nsensuretrue
+mvalue
+attribute
+nsmsgsearchattrib
+folderinfo
+nserrorillegalvalue
+mvalue
+folder
+avalue
+nsok
+nsimethodimp
+nsmsgsearchvalueimpl
+getstr
+prunichar
+aresult
+nsensureargpointer
+aresult
+nsensuretrue
+isstringattribute
+mvalue
+attribute
+nserrorillegalvalue
+aresult
+tonewunicode
+nsconvertutftoucs
+mvalue
+nsok
+nsimethodimp
+nsmsgsearchvalueimpl
+setstr
+prunichar
+avalue
+nsensuretrue
+isstringattribute
+mvalue
+attribute
+nserrorillegalvalue
+mvalue
+nscrt
+free
+mvalue
+mvalue
+tonewutfstring
+nsdependentstring
+avalue
+nsok
+nsimethodimp
+nsmsgsearchvalueimpl
+tostring
+prunichar
+aresult
+nsensureargpointer
+aresult
+nsautostring
+resultstr
+resultstr
+assign
+nsliteralstring
+nsimsgsearchvalue
+isstringattribute
+mvalue
+attribute
+resultstr
+append
+nsconvertutftoucs
+mvalue
+nsok
+mvalue
+attribute
+nsmsgsearchattrib
+priority
+nsmsgsearchattrib
+date
+nsmsgsearchattrib
+msgstatus
+nsmsgsearchattrib
+messagekey
+nsmsgsearchattrib
+size
+nsmsgsearchattrib
+ageindays
+nsmsgsearchattrib
+folderinfo
+nsmsgsearchattrib
+label
+nsmsgsearchattrib
+junkstatus
+resultstr
+append
+nsliteralstring
+type
+resultstr
+appendint
+mvalue
+attribute
+nsassertion
+unknown
+search
+value
+type
+resultstr
+append
+nsliteralstring
+aresult
+tonewunicode
+resultstr
+nsok
\ No newline at end of file
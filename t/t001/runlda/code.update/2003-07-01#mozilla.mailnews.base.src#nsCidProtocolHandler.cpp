@@ -0,0 +1,81 @@
+nscidprotocolhandler
+nsstring
+nsiuri
+nsnetcid
+nscomponentmanagerutils
+nscidprotocolhandler
+nscidprotocolhandler
+nscidprotocolhandler
+nscidprotocolhandler
+nsimplisupports
+nscidprotocolhandler
+nsiprotocolhandler
+nsimethodimp
+nscidprotocolhandler
+getscheme
+nsacstring
+ascheme
+nserrornotimplemented
+nsimethodimp
+nscidprotocolhandler
+getdefaultport
+print
+adefaultport
+nserrornotimplemented
+nsimethodimp
+nscidprotocolhandler
+getprotocolflags
+pruint
+aprotocolflags
+nserrornotimplemented
+nsimethodimp
+nscidprotocolhandler
+newuri
+nsacstring
+aspec
+aorigincharset
+nsiuri
+abaseuri
+nsiuri
+retval
+nsresult
+rv
+nscomptr
+nsiuri
+url
+docreateinstance
+nssimpleuricontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+url
+setspec
+nsdependentcstring
+about
+blank
+nsensuresuccess
+rv
+rv
+nsifaddref
+retval
+url
+nsok
+nsimethodimp
+nscidprotocolhandler
+newchannel
+nsiuri
+auri
+nsichannel
+retval
+nserrornotimplemented
+nsimethodimp
+nscidprotocolhandler
+allowport
+print
+port
+scheme
+prbool
+retval
+nserrornotimplemented
\ No newline at end of file
@@ -0,0 +1,269 @@
+nscopymessagestreamlistener
+nsimsgmailnewsurl
+nsimailboxurl
+nsimsghdr
+nsirdfservice
+nsirdfnode
+nsrdfcid
+nsimsgimapmailfolder
+nsxpidlstring
+nsimsgmessageservice
+nsmsgutils
+netcore
+nsdefinecid
+krdfservicecid
+nsrdfservicecid
+nsdefineiid
+kisupportsiid
+nsisupportsiid
+nsimplthreadsafeaddref
+nscopymessagestreamlistener
+nsimplthreadsaferelease
+nscopymessagestreamlistener
+nsinterfacemapbegin
+nscopymessagestreamlistener
+nsinterfacemapentryambiguous
+nsisupports
+nsistreamlistener
+nsinterfacemapentry
+nsistreamlistener
+nsinterfacemapentry
+nsirequestobserver
+nsinterfacemapentry
+nsicopymessagestreamlistener
+nsinterfacemapendthreadsafe
+nsresult
+getmessage
+nsiuri
+aurl
+nsimsgdbhdr
+message
+nsensureargpointer
+message
+nscomptr
+nsimsgmessageurl
+uriurl
+nsresult
+rv
+uriurl
+doqueryinterface
+aurl
+rv
+nsfailed
+rv
+rv
+nsxpidlcstring
+uri
+rv
+uriurl
+getoriginalspec
+gettercopies
+uri
+nsfailed
+rv
+uri
+isempty
+rv
+uriurl
+geturi
+gettercopies
+uri
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgmessageservice
+msgmessageservice
+rv
+getmessageservicefromuri
+uri
+getteraddrefs
+msgmessageservice
+nsensuresuccess
+rv
+rv
+msgmessageservice
+nserrorfailure
+rv
+msgmessageservice
+messageuritomsghdr
+uri
+get
+message
+rv
+nscopymessagestreamlistener
+nscopymessagestreamlistener
+nscopymessagestreamlistener
+nscopymessagestreamlistener
+nsimethodimp
+nscopymessagestreamlistener
+init
+nsimsgfolder
+srcfolder
+nsicopymessagelistener
+destination
+nsisupports
+listenerdata
+msrcfolder
+srcfolder
+mdestination
+destination
+mlistenerdata
+listenerdata
+nsok
+nsimethodimp
+nscopymessagestreamlistener
+startmessage
+mdestination
+mdestination
+startmessage
+nsok
+nsimethodimp
+nscopymessagestreamlistener
+endmessage
+nsmsgkey
+key
+mdestination
+mdestination
+endmessage
+key
+nsok
+nsimethodimp
+nscopymessagestreamlistener
+ondataavailable
+nsirequest
+nsisupports
+ctxt
+nsiinputstream
+aistream
+pruint
+sourceoffset
+pruint
+alength
+nsresult
+rv
+rv
+mdestination
+copydata
+aistream
+alength
+rv
+nsimethodimp
+nscopymessagestreamlistener
+onstartrequest
+nsirequest
+request
+nsisupports
+ctxt
+nscomptr
+nsimsgdbhdr
+message
+nsresult
+rv
+nsok
+nscomptr
+nsiuri
+uri
+doqueryinterface
+ctxt
+rv
+nsassertion
+nssucceeded
+rv
+ahah
+someone
+didn
+pass
+in
+the
+expected
+context
+nssucceeded
+rv
+rv
+getmessage
+uri
+getteraddrefs
+message
+nssucceeded
+rv
+rv
+mdestination
+begincopy
+message
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nscopymessagestreamlistener
+endcopy
+nsisupports
+url
+nsresult
+astatus
+nsresult
+rv
+nsok
+nscomptr
+nsiuri
+uri
+doqueryinterface
+url
+rv
+nsfailed
+rv
+rv
+prbool
+copysucceeded
+astatus
+nsbindingsucceeded
+rv
+mdestination
+endcopy
+copysucceeded
+nssucceeded
+rv
+prbool
+movemessage
+prfalse
+nscomptr
+nsimsgmailnewsurl
+mailurl
+doqueryinterface
+uri
+mailurl
+rv
+mailurl
+isurltype
+nsimsgmailnewsurl
+emove
+movemessage
+nsfailed
+rv
+movemessage
+prfalse
+movemessage
+nscomptr
+nsimsgimapmailfolder
+destimap
+doqueryinterface
+mdestination
+destimap
+rv
+mdestination
+endmove
+copysucceeded
+nsok
+nsimethodimp
+nscopymessagestreamlistener
+onstoprequest
+nsirequest
+request
+nsisupports
+ctxt
+nsresult
+astatus
+endcopy
+ctxt
+astatus nsresult
\ No newline at end of file
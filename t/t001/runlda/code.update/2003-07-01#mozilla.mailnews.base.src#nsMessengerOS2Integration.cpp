@@ -0,0 +1,234 @@
+define
+incldosmemmgr
+define
+incldoserrors
+os
+nsmessengerosintegration
+nsimsgaccountmanager
+nsimsgmailsession
+nsmsgbasecid
+nsmessengerosintegration
+nsmessengerosintegration
+apiret
+rc
+pvoid
+pvobject
+pulong
+punreadcount
+rc
+dosgetnamedsharedmem
+pvoid
+punreadcount
+sharemem
+inbox
+mem
+pagread
+pagwrite
+rc
+noerror
+rc
+dosallocsharedmem
+pvobject
+sharemem
+inbox
+mem
+ulong
+pagcommit
+pagwrite
+punreadcount
+pulong
+pvobject
+punreadcount
+nsmessengerosintegration
+nsmessengerosintegration
+apiret
+rc
+pvoid
+pvobject
+pulong
+punreadcount
+rc
+dosgetnamedsharedmem
+pvoid
+punreadcount
+sharemem
+inbox
+mem
+pagread
+pagwrite
+rc
+noerror
+rc
+dosfreemem
+punreadcount
+nsimpladdref
+nsmessengerosintegration
+nsimplrelease
+nsmessengerosintegration
+nsinterfacemapbegin
+nsmessengerosintegration
+nsinterfacemapentryambiguous
+nsisupports
+nsimessengerosintegration
+nsinterfacemapentry
+nsimessengerosintegration
+nsinterfacemapentry
+nsifolderlistener
+nsinterfacemapend
+nsresult
+nsmessengerosintegration
+init
+nsresult
+rv
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+accountmanager
+addrootfolderlistener
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgmailsession
+mailsession
+dogetservice
+nsmsgmailsessioncontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+mailsession
+addfolderlistener
+nsifolderlistener
+boolpropertychanged
+nsifolderlistener
+intpropertychanged
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsmessengerosintegration
+onitempropertychanged
+nsisupports
+nsiatom
+nsok
+nsimethodimp
+nsmessengerosintegration
+onitemunicharpropertychanged
+nsisupports
+nsiatom
+prunichar
+prunichar
+nsok
+nsimethodimp
+nsmessengerosintegration
+onitemremoved
+nsisupports
+nsisupports
+nsok
+nsimethodimp
+nsmessengerosintegration
+onitempropertyflagchanged
+nsisupports
+item
+nsiatom
+property
+pruint
+oldflag
+pruint
+newflag
+newflag
+nsimsgfolder
+nsmsgbiffstatenewmail
+apiret
+rc
+pulong
+punreadcount
+printf
+change
+icon
+to
+newmail
+rc
+dosgetnamedsharedmem
+pvoid
+punreadcount
+sharemem
+inbox
+mem
+pagread
+pagwrite
+punreadcount
+newflag
+nsimsgfolder
+nsmsgbiffstatenomail
+apiret
+rc
+pulong
+punreadcount
+printf
+change
+icon
+to
+newmail
+rc
+dosgetnamedsharedmem
+pvoid
+punreadcount
+sharemem
+inbox
+mem
+pagread
+pagwrite
+punreadcount
+printf
+change
+icon
+to
+nomail
+nsok
+nsimethodimp
+nsmessengerosintegration
+onitemadded
+nsisupports
+nsisupports
+nsok
+nsimethodimp
+nsmessengerosintegration
+onitemboolpropertychanged
+nsisupports
+aitem
+nsiatom
+aproperty
+prbool
+aoldvalue
+prbool
+anewvalue
+nsok
+nsimethodimp
+nsmessengerosintegration
+onitemevent
+nsifolder
+nsiatom
+nsok
+nsimethodimp
+nsmessengerosintegration
+onitemintpropertychanged
+nsisupports
+aitem
+nsiatom
+aproperty
+print
+aoldvalue
+print
+anewvalue
+nsok nsresult
\ No newline at end of file
@@ -0,0 +1,1624 @@
+windows
+shellapi
+nsmessengerwinintegration
+nsimsgaccountmanager
+nsimsgmailsession
+nsimsgincomingserver
+nsimsgidentity
+nsimsgaccount
+nsirdfresource
+nsimsgfolder
+nscomptr
+nsmsgbasecid
+nsmsgfolderflags
+nsdirectoryservicedefs
+nsiprofile
+nsidirectoryservice
+nsiwindowmediator
+nsidomwindowinternal
+nspidomwindow
+nsiscriptglobalobject
+nsidocshell
+nsibasewindow
+nsiwidget
+nsimessengerwindowservice
+prprf
+nsiweakreference
+nsistringbundle
+nsialertsservice
+define
+xpshsetunreadmailcounts
+shsetunreadmailcountw
+define
+xpshenumerateunreadmailaccounts
+shenumerateunreadmailaccountsw
+define
+shellnotifywideversion
+shellnotifyiconw
+define
+unreadmailnodekey
+software
+microsoft
+windows
+currentversion
+unreadmail
+define
+shelldll
+nsliteralcstring
+shell
+dll
+define
+doublequote
+define
+profilecommandlinearg
+define
+mailcommandlinearg
+mail
+define
+timerintervalpref
+mail
+windowsxpintegration
+unreadcountinterval
+define
+idimailbiff
+define
+newmailalerticon
+messenger
+skin
+icons
+mail
+alert
+png
+define
+showalertpref
+mail
+biff
+showalert
+ifdef
+getusername
+undef
+getusername
+endif
+hwnd
+hwndfordomwindow
+nsisupports
+window
+nscomptr
+nsiscriptglobalobject
+ppscriptglobalobj
+doqueryinterface
+window
+ppscriptglobalobj
+nscomptr
+nsidocshell
+ppdocshell
+ppscriptglobalobj
+getdocshell
+getteraddrefs
+ppdocshell
+ppdocshell
+nscomptr
+nsibasewindow
+ppbasewindow
+doqueryinterface
+ppdocshell
+ppbasewindow
+nscomptr
+nsiwidget
+ppwidget
+ppbasewindow
+getmainwidget
+getteraddrefs
+ppwidget
+hwnd
+ppwidget
+getnativedata
+nsnativewidget
+activatewindow
+nsidomwindowinternal
+win
+hwnd
+hwnd
+hwndfordomwindow
+win
+hwnd
+isiconic
+hwnd
+showwindow
+hwnd
+swrestore
+setforegroundwindow
+hwnd
+win
+focus
+openmailwindow
+prunichar
+amailwindowname
+afolderuri
+nscomptr
+nsiwindowmediator
+mediator
+dogetservice
+nswindowmediatorcontractid
+mediator
+nscomptr
+nsidomwindowinternal
+domwindow
+mediator
+getmostrecentwindow
+amailwindowname
+getteraddrefs
+domwindow
+domwindow
+nscomptr
+nsisupports
+xpconnectobj
+nscomptr
+nspidomwindow
+pidomwindow
+doqueryinterface
+domwindow
+pidomwindow
+pidomwindow
+getobjectproperty
+nsliteralstring
+msgwindowcommands
+get
+getteraddrefs
+xpconnectobj
+nscomptr
+nsimsgwindowcommands
+msgwindowcommands
+doqueryinterface
+xpconnectobj
+msgwindowcommands
+msgwindowcommands
+selectfolder
+afolderuri
+activatewindow
+domwindow
+nscomptr
+nsimessengerwindowservice
+messengerwindowservice
+dogetservice
+nsmessengerwindowservicecontractid
+messengerwindowservice
+messengerwindowservice
+openmessengerwindowwithuri
+mail
+pane
+afolderuri
+nsmsgkeynone
+messagewindow
+messagewindow
+create
+fakename
+mailwinname
+hwnd
+mhandle
+mailwinname
+mailnamebuffer
+mmailwinname
+mmailwinname
+snprintf
+mailnamebuffer
+mailnamebuffer
+mail
+pane
+mmailwinname
+mailnamebuffer
+mmailwinname
+classname
+classnamebuffer
+mclassname
+mclassname
+snprintf
+classnamebuffer
+classnamebuffer
+mailbiffnotification
+messagewindow
+mclassname
+classnamebuffer
+mclassname
+nsimethod
+create
+mhandle
+findwindow
+classname
+mhandle
+nsok
+wndclass
+classstruct
+messagewindow
+windowproc
+classname
+nsensuretrue
+registerclass
+classstruct
+nserrorfailure
+nsensuretrue
+mhandle
+createwindow
+classname
+wscaption
+nserrorfailure
+nsok
+callback
+windowproc
+hwnd
+msgwindow
+uint
+msg
+wparam
+wp
+lparam
+lp
+msg
+wmuser
+lp
+wmlbuttondblclk
+nsautostring
+mailname
+mailname
+assignwithconversion
+mailwinname
+openmailwindow
+mailname
+get
+nsnull
+true
+hwnd
+mhandle
+nsmessengerwinintegration
+nsmessengerwinintegration
+mdefaultserveratom
+getteraddrefs
+nsnewatom
+defaultserver
+mtotalunreadmessagesatom
+getteraddrefs
+nsnewatom
+totalunreadmessages
+mfirsttimefolderunreadcountchanged
+prtrue
+minboxuri
+nsnull
+memail
+nsnull
+mstoreunreadcounts
+prfalse
+mintervaltime
+mbiffstateatom
+getteraddrefs
+nsnewatom
+biffstate
+mbifficonvisible
+prfalse
+msuppressbifficon
+prfalse
+malertinprogress
+prfalse
+mbifficoninitialized
+prfalse
+musewidecharbifficon
+prfalse
+nsnewisupportsarray
+getteraddrefs
+mfolderswithnewmail
+nsmessengerwinintegration
+nsmessengerwinintegration
+munreadcountupdatetimer
+munreadcountupdatetimer
+cancel
+munreadcountupdatetimer
+nsnull
+nsresult
+rv
+updateregistrywithcurrent
+nsassertion
+nssucceeded
+rv
+failed
+to
+update
+registry
+on
+shutdown
+crtfreeif
+minboxuri
+crtfreeif
+memail
+destroybifficon
+nsimpladdref
+nsmessengerwinintegration
+nsimplrelease
+nsmessengerwinintegration
+nsinterfacemapbegin
+nsmessengerwinintegration
+nsinterfacemapentryambiguous
+nsisupports
+nsimessengerosintegration
+nsinterfacemapentry
+nsimessengerosintegration
+nsinterfacemapentry
+nsifolderlistener
+nsinterfacemapentry
+nsialertlistener
+nsinterfacemapend
+nsresult
+nsmessengerwinintegration
+resetcurrent
+crtfreeif
+minboxuri
+crtfreeif
+memail
+mcurrentunreadcount
+mlastunreadcountwrittentoregistry
+mdefaultaccountmighthaveaninbox
+prtrue
+nsok
+notifyicondata
+nsmessengerwinintegration
+masciibifficondata
+notifyicondata
+nificon
+nifmessage
+niftip
+wmuser
+notifyicondataw
+nsmessengerwinintegration
+mwidebifficondata
+notifyicondataw
+nificon
+nifmessage
+niftip
+wmuser
+ifdef
+mozthunderbird
+define
+maildllname
+mail
+dll
+define
+maildllname
+msgbase
+dll
+endif
+nsmessengerwinintegration
+initializebiffstatusicon
+nsresult
+rv
+nsok
+messagewindow
+msgwindow
+musewidecharbifficon
+mwidebifficondata
+hwnd
+hwnd
+msgwindow
+mwidebifficondata
+hicon
+loadicon
+getmodulehandle
+maildllname
+makeintresource
+idimailbiff
+mwidebifficondata
+sztip
+masciibifficondata
+hwnd
+hwnd
+msgwindow
+masciibifficondata
+hicon
+loadicon
+getmodulehandle
+maildllname
+makeintresource
+idimailbiff
+masciibifficondata
+sztip
+mbifficoninitialized
+prtrue
+nsresult
+nsmessengerwinintegration
+init
+nsresult
+rv
+nscomptr
+nsipref
+prefservice
+prefservice
+dogetservice
+nsprefcontractid
+rv
+nsensuresuccess
+rv
+rv
+print
+timerinterval
+prefservice
+getintpref
+timerintervalpref
+timerinterval
+timerinterval
+mintervaltime
+timerinterval
+nscomptr
+nsiproperties
+directoryservice
+dogetservice
+nsdirectoryservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsifile
+systemdir
+rv
+directoryservice
+get
+nsossystemdir
+nsgetiid
+nsifile
+getteraddrefs
+systemdir
+nsensuresuccess
+rv
+rv
+nscautostring
+shellfile
+rv
+systemdir
+getnativepath
+shellfile
+nsensuresuccess
+rv
+rv
+mshelldllpath
+assign
+shellfile
+nsliteralcstring
+shelldll
+hmodule
+hmodule
+loadlibrary
+mshelldllpath
+get
+hmodule
+nsok
+hmodule
+mshsetunreadmailcount
+fnshsetunreadmailcount
+getprocaddress
+hmodule
+xpshsetunreadmailcounts
+mshenumerateunreadmailaccounts
+fnshenumerateunreadmailaccounts
+getprocaddress
+hmodule
+xpshenumerateunreadmailaccounts
+mshellnotifywidechar
+fnshellnotifyw
+getprocaddress
+hmodule
+shellnotifywideversion
+mshellnotifywidechar
+musewidecharbifficon
+prtrue
+mshsetunreadmailcount
+mshenumerateunreadmailaccounts
+pruint
+mintervaltime
+mstoreunreadcounts
+prtrue
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+accountmanager
+addrootfolderlistener
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgmailsession
+mailsession
+dogetservice
+nsmsgmailsessioncontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+mailsession
+addfolderlistener
+nsifolderlistener
+boolpropertychanged
+nsifolderlistener
+intpropertychanged
+nsensuresuccess
+rv
+rv
+mstoreunreadcounts
+nscomptr
+nsiprofile
+profileservice
+dogetservice
+nsprofilecontractid
+rv
+nsensuresuccess
+rv
+rv
+profileservice
+getcurrentprofile
+gettercopies
+mprofilename
+apppath
+maxpath
+getmodulefilename
+nsnull
+apppath
+apppath
+word
+wideformatapppath
+maxpath
+multibytetowidechar
+cpacp
+apppath
+strlen
+apppath
+wideformatapppath
+maxpath
+mappname
+assign
+prunichar
+wideformatapppath
+rv
+resetcurrent
+nsensuresuccess
+rv
+rv
+rv
+setupunreadcountupdatetimer
+nsok
+nsimethodimp
+nsmessengerwinintegration
+onitempropertychanged
+nsisupports
+nsiatom
+nsok
+nsimethodimp
+nsmessengerwinintegration
+onitemunicharpropertychanged
+nsisupports
+nsiatom
+prunichar
+prunichar
+nsok
+nsimethodimp
+nsmessengerwinintegration
+onitemremoved
+nsisupports
+nsisupports
+nsok
+nsresult
+nsmessengerwinintegration
+getstringbundle
+nsistringbundle
+abundle
+nsresult
+rv
+nsok
+nsensureargpointer
+abundle
+nscomptr
+nsistringbundleservice
+bundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nscomptr
+nsistringbundle
+bundle
+bundleservice
+nssucceeded
+rv
+bundleservice
+createbundle
+messenger
+locale
+messenger
+properties
+getteraddrefs
+bundle
+nsifaddref
+abundle
+bundle
+rv
+nsresult
+nsmessengerwinintegration
+showalertmessage
+prunichar
+aalerttext
+afolderuri
+nsresult
+rv
+malertinprogress
+nsok
+nscomptr
+nsipref
+prefservice
+prefservice
+dogetservice
+nsprefcontractid
+rv
+prbool
+showalert
+prtrue
+prefservice
+prefservice
+getboolpref
+showalertpref
+showalert
+showalert
+nscomptr
+nsialertsservice
+alertsservice
+dogetservice
+nsalertservicecontractid
+rv
+nssucceeded
+rv
+nscomptr
+nsialertlistener
+alertlistener
+doqueryinterface
+nsstaticcast
+nsimessengerosintegration
+nscomptr
+nsistringbundle
+bundle
+getstringbundle
+getteraddrefs
+bundle
+bundle
+nsxpidlstring
+alerttitle
+bundle
+getstringfromname
+nsliteralstring
+newmailalerttitle
+get
+gettercopies
+alerttitle
+rv
+alertsservice
+showalertnotification
+newmailalerticon
+alerttitle
+aalerttext
+prtrue
+nsconvertasciitoucs
+afolderuri
+get
+alertlistener
+malertinprogress
+prtrue
+rv
+nserrorfailure
+showalert
+nsfailed
+rv
+onalertfinished
+nsnull
+rv
+nsimethodimp
+nsmessengerwinintegration
+onalertfinished
+prunichar
+aalertcookie
+msuppressbifficon
+genericshellnotify
+nimadd
+mbifficonvisible
+prtrue
+msuppressbifficon
+prfalse
+malertinprogress
+prfalse
+nsok
+nsimethodimp
+nsmessengerwinintegration
+onalertclickcallback
+prunichar
+aalertcookie
+msuppressbifficon
+prtrue
+nsxpidlcstring
+folderuri
+getfirstfolderwithnewmail
+gettercopies
+folderuri
+openmailwindow
+nsliteralstring
+mail
+pane
+get
+folderuri
+nsok
+nsmessengerwinintegration
+filltooltipinfo
+nsxpidlcstring
+username
+nsxpidlcstring
+hostname
+nsautostring
+tooltiptext
+nsautostring
+animatedalerttext
+nscomptr
+nsisupports
+supports
+nscomptr
+nsimsgfolder
+folder
+nscomptr
+nsiweakreference
+weakreference
+print
+numnewmessages
+pruint
+count
+mfolderswithnewmail
+count
+count
+pruint
+maxtooltipsize
+gettooltipsize
+pruint
+index
+index
+count
+index
+supports
+getteraddrefs
+mfolderswithnewmail
+elementat
+index
+weakreference
+doqueryinterface
+supports
+folder
+doqueryreferent
+weakreference
+folder
+folder
+getusername
+gettercopies
+username
+numnewmessages
+folder
+getnumnewmessages
+prtrue
+numnewmessages
+nscomptr
+nsistringbundle
+bundle
+getstringbundle
+getteraddrefs
+bundle
+bundle
+nsautostring
+numnewmsgstext
+nsautostring
+uniusername
+uniusername
+assignwithconversion
+username
+numnewmsgstext
+appendint
+numnewmessages
+prunichar
+formatstrings
+uniusername
+get
+numnewmsgstext
+get
+nsxpidlstring
+finaltext
+numnewmessages
+bundle
+formatstringfromname
+nsliteralstring
+biffnotificationmessage
+get
+formatstrings
+gettercopies
+finaltext
+bundle
+formatstringfromname
+nsliteralstring
+biffnotificationmessages
+get
+formatstrings
+gettercopies
+finaltext
+animatedalerttext
+isempty
+animatedalerttext
+finaltext
+maxtooltipsize
+tooltiptext
+length
+finaltext
+length
+index
+tooltiptext
+append
+nsliteralstring
+get
+tooltiptext
+append
+finaltext
+settooltipstringonicondata
+tooltiptext
+get
+mbifficonvisible
+showalertmessage
+animatedalerttext
+get
+genericshellnotify
+nimmodify
+nsresult
+nsmessengerwinintegration
+getfirstfolderwithnewmail
+afolderuri
+nsresult
+rv
+nsensuretrue
+mfolderswithnewmail
+nserrorfailure
+nscomptr
+nsisupports
+supports
+nscomptr
+nsimsgfolder
+folder
+nscomptr
+nsiweakreference
+weakreference
+print
+numnewmessages
+pruint
+count
+mfolderswithnewmail
+count
+count
+count
+nsok
+supports
+getteraddrefs
+mfolderswithnewmail
+elementat
+weakreference
+doqueryinterface
+supports
+folder
+doqueryreferent
+weakreference
+folder
+pruint
+biffstate
+nsimsgfolder
+nsmsgbiffstatenomail
+nscomptr
+nsimsgfolder
+msgfolder
+nscomptr
+nsisupportsarray
+allfolders
+nsnewisupportsarray
+getteraddrefs
+allfolders
+rv
+folder
+listdescendents
+allfolders
+nsensuresuccess
+rv
+rv
+nscomptr
+nsienumerator
+enumerator
+allfolders
+enumerate
+getteraddrefs
+enumerator
+enumerator
+nscomptr
+nsisupports
+supports
+nsresult
+more
+enumerator
+first
+nssucceeded
+more
+rv
+enumerator
+currentitem
+getteraddrefs
+supports
+supports
+msgfolder
+doqueryinterface
+supports
+rv
+msgfolder
+numnewmessages
+msgfolder
+getnumnewmessages
+prfalse
+numnewmessages
+numnewmessages
+more
+enumerator
+next
+msgfolder
+msgfolder
+geturi
+afolderuri
+nsok
+nsmessengerwinintegration
+destroybifficon
+genericshellnotify
+nimdelete
+pruint
+nsmessengerwinintegration
+gettooltipsize
+musewidecharbifficon
+mwidebifficondata
+sztip
+mwidebifficondata
+sztip
+masciibifficondata
+sztip
+nsmessengerwinintegration
+settooltipstringonicondata
+prunichar
+atooltipstring
+atooltipstring
+pruint
+tooltipbufsize
+gettooltipsize
+musewidecharbifficon
+wcsncpy
+mwidebifficondata
+sztip
+atooltipstring
+tooltipbufsize
+wcslen
+atooltipstring
+tooltipbufsize
+mwidebifficondata
+sztip
+tooltipbufsize
+nscstring
+asciitooltip
+asciitooltip
+assignwithconversion
+atooltipstring
+strncpy
+masciibifficondata
+sztip
+asciitooltip
+get
+gettooltipsize
+asciitooltip
+length
+tooltipbufsize
+masciibifficondata
+sztip
+tooltipbufsize
+nsmessengerwinintegration
+genericshellnotify
+dword
+amessage
+musewidecharbifficon
+bool
+res
+mshellnotifywidechar
+amessage
+mwidebifficondata
+res
+reverttononunicodeshellapi
+shellnotifyicon
+amessage
+masciibifficondata
+nsmessengerwinintegration
+reverttononunicodeshellapi
+musewidecharbifficon
+prfalse
+initializebiffstatusicon
+mwidebifficondata
+sztip
+prunichar
+oldtooltipstring
+mwidebifficondata
+sztip
+settooltipstringonicondata
+oldtooltipstring
+nsimethodimp
+nsmessengerwinintegration
+onitempropertyflagchanged
+nsisupports
+item
+nsiatom
+property
+pruint
+oldflag
+pruint
+newflag
+nsresult
+rv
+nsok
+mbifficoninitialized
+initializebiffstatusicon
+mbiffstateatom
+property
+mfolderswithnewmail
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+item
+nsensuretrue
+folder
+nsok
+newflag
+nsimsgfolder
+nsmsgbiffstatenewmail
+mbifficonvisible
+prbool
+performingbiff
+prfalse
+nscomptr
+nsimsgincomingserver
+server
+folder
+getserver
+getteraddrefs
+server
+server
+server
+getperformingbiff
+performingbiff
+performingbiff
+nsok
+nscomptr
+nsiweakreference
+weakfolder
+dogetweakreference
+folder
+pruint
+count
+pruint
+index
+mfolderswithnewmail
+count
+count
+nscomptr
+nsisupports
+supports
+nscomptr
+nsimsgfolder
+oldfolder
+nscomptr
+nsiweakreference
+weakreference
+index
+index
+count
+index
+supports
+getteraddrefs
+mfolderswithnewmail
+elementat
+index
+weakreference
+doqueryinterface
+supports
+oldfolder
+doqueryreferent
+weakreference
+oldfolder
+folder
+oldfolder
+nsnull
+oldfolder
+mfolderswithnewmail
+replaceelementat
+weakfolder
+index
+mfolderswithnewmail
+appendelement
+weakfolder
+filltooltipinfo
+newflag
+nsimsgfolder
+nsmsgbiffstatenomail
+malertinprogress
+msuppressbifficon
+prtrue
+mfolderswithnewmail
+clear
+mbifficonvisible
+mbifficonvisible
+prfalse
+genericshellnotify
+nimdelete
+nsok
+nsimethodimp
+nsmessengerwinintegration
+onitemadded
+nsisupports
+nsisupports
+nsok
+nsimethodimp
+nsmessengerwinintegration
+onitemboolpropertychanged
+nsisupports
+aitem
+nsiatom
+aproperty
+prbool
+aoldvalue
+prbool
+anewvalue
+aproperty
+mdefaultserveratom
+nsresult
+rv
+minboxuri
+memail
+rv
+removecurrentfromregistry
+nsensuresuccess
+rv
+rv
+rv
+resetcurrent
+nsensuresuccess
+rv
+rv
+rv
+updateunreadcount
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsmessengerwinintegration
+onitemevent
+nsifolder
+nsiatom
+nsok
+nsimethodimp
+nsmessengerwinintegration
+onitemintpropertychanged
+nsisupports
+aitem
+nsiatom
+aproperty
+print
+aoldvalue
+print
+anewvalue
+nsresult
+rv
+mstoreunreadcounts
+nsok
+aproperty
+mtotalunreadmessagesatom
+nscomptr
+nsirdfresource
+folderresource
+doqueryinterface
+aitem
+rv
+nsensuresuccess
+rv
+rv
+itemuri
+nsnull
+rv
+folderresource
+getvalueconst
+itemuri
+nsensuresuccess
+rv
+rv
+mfirsttimefolderunreadcountchanged
+mfirsttimefolderunreadcountchanged
+prfalse
+rv
+updateunreadcount
+nsensuresuccess
+rv
+rv
+itemuri
+minboxuri
+nscrt
+strcmp
+itemuri
+minboxuri
+mcurrentunreadcount
+anewvalue
+nsok
+nsmessengerwinintegration
+onunreadcountupdatetimer
+nsitimer
+timer
+osintegration
+nsmessengerwinintegration
+winintegration
+nsmessengerwinintegration
+osintegration
+nsresult
+rv
+winintegration
+updateunreadcount
+nsassertion
+nssucceeded
+rv
+updating
+unread
+count
+failed
+nsresult
+nsmessengerwinintegration
+removecurrentfromregistry
+mstoreunreadcounts
+nsok
+nsautostring
+currentunreadmailcountkey
+memailprefix
+isempty
+currentunreadmailcountkey
+assign
+memailprefix
+currentunreadmailcountkey
+appendwithconversion
+memail
+currentunreadmailcountkey
+assignwithconversion
+memail
+wchar
+registryunreadmailcountkey
+maxpath
+index
+succeeded
+mshenumerateunreadmailaccounts
+hkeycurrentuser
+index
+registryunreadmailcountkey
+registryunreadmailcountkey
+wcscmp
+registryunreadmailcountkey
+currentunreadmailcountkey
+get
+nsautostring
+deletekey
+deletekey
+assign
+nsliteralstring
+unreadmailnodekey
+get
+deletekey
+append
+currentunreadmailcountkey
+get
+deletekey
+isempty
+regdeletekey
+hkeycurrentuser
+nsconvertucstoutf
+deletekey
+get
+index
+index
+nsok
+nsresult
+nsmessengerwinintegration
+updateregistrywithcurrent
+mstoreunreadcounts
+nsok
+minboxuri
+memail
+nsok
+mcurrentunreadcount
+mcurrentunreadcount
+mlastunreadcountwrittentoregistry
+nsok
+nsautostring
+commandlinerforapplaunch
+commandlinerforapplaunch
+assign
+nsliteralstring
+doublequote
+get
+commandlinerforapplaunch
+append
+mappname
+get
+commandlinerforapplaunch
+append
+nsliteralstring
+doublequote
+get
+commandlinerforapplaunch
+append
+nsliteralstring
+profilecommandlinearg
+get
+commandlinerforapplaunch
+append
+mprofilename
+get
+commandlinerforapplaunch
+append
+nsliteralstring
+mailcommandlinearg
+get
+commandlinerforapplaunch
+isempty
+nsautostring
+pbuffer
+memailprefix
+isempty
+pbuffer
+assign
+memailprefix
+get
+pbuffer
+appendwithconversion
+memail
+pbuffer
+assignwithconversion
+memail
+hresult
+hr
+mshsetunreadmailcount
+pbuffer
+get
+mcurrentunreadcount
+commandlinerforapplaunch
+get
+mlastunreadcountwrittentoregistry
+mcurrentunreadcount
+nsok
+nsresult
+nsmessengerwinintegration
+setupinbox
+nsresult
+rv
+mstoreunreadcounts
+nsok
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgaccount
+account
+rv
+accountmanager
+getdefaultaccount
+getteraddrefs
+account
+nsfailed
+rv
+mdefaultaccountmighthaveaninbox
+prfalse
+nsok
+nscomptr
+nsimsgincomingserver
+server
+rv
+account
+getincomingserver
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+type
+rv
+server
+gettype
+gettercopies
+type
+nsensuresuccess
+rv
+rv
+nscrt
+strcmp
+type
+get
+imap
+nscrt
+strcmp
+type
+get
+pop
+mdefaultaccountmighthaveaninbox
+prtrue
+nsxpidlcstring
+redirectortype
+server
+getredirectortype
+gettercopies
+redirectortype
+redirectortype
+nscautostring
+providerprefixpref
+providerprefixpref
+assign
+mail
+providerprefixpref
+append
+redirectortype
+providerprefixpref
+append
+unreadmailcountregistrykeyprefix
+nscomptr
+nsipref
+prefservice
+prefservice
+dogetservice
+nsprefcontractid
+rv
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+prefixvalue
+prefservice
+copyunicharpref
+providerprefixpref
+get
+gettercopies
+prefixvalue
+prefixvalue
+get
+memailprefix
+assign
+prefixvalue
+memailprefix
+truncate
+memailprefix
+truncate
+nscomptr
+nsimsgidentity
+identity
+rv
+account
+getdefaultidentity
+getteraddrefs
+identity
+nsensuresuccess
+rv
+rv
+identity
+nserrorfailure
+rv
+identity
+getemail
+memail
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgfolder
+rootmsgfolder
+rv
+server
+getrootmsgfolder
+getteraddrefs
+rootmsgfolder
+nsensuresuccess
+rv
+rv
+rootmsgfolder
+nserrorfailure
+pruint
+numfolders
+nscomptr
+nsimsgfolder
+inboxfolder
+rv
+rootmsgfolder
+getfolderswithflag
+msgfolderflaginbox
+numfolders
+getteraddrefs
+inboxfolder
+nsensuresuccess
+rv
+rv
+inboxfolder
+nserrorfailure
+rv
+inboxfolder
+geturi
+minboxuri
+nsensuresuccess
+rv
+rv
+rv
+inboxfolder
+getnumunread
+prfalse
+mcurrentunreadcount
+nsensuresuccess
+rv
+rv
+mdefaultaccountmighthaveaninbox
+prfalse
+nsok
+nsresult
+nsmessengerwinintegration
+updateunreadcount
+nsresult
+rv
+mstoreunreadcounts
+nsok
+mdefaultaccountmighthaveaninbox
+minboxuri
+rv
+setupinbox
+nsensuresuccess
+rv
+rv
+rv
+updateregistrywithcurrent
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsmessengerwinintegration
+setupunreadcountupdatetimer
+mstoreunreadcounts
+nsok
+pruint
+timeinmsuint
+pruint
+mintervaltime
+munreadcountupdatetimer
+munreadcountupdatetimer
+cancel
+munreadcountupdatetimer
+docreateinstance
+timer
+munreadcountupdatetimer
+initwithfunccallback
+onunreadcountupdatetimer
+timeinmsuint
+nsitimer
+typerepeatingslack
+nsok nsresult
\ No newline at end of file
@@ -0,0 +1,2593 @@
+nsmsgaccountmanagerds
+rdf
+nsrdfcid
+nsirdfdatasource
+nsenumeratorutils
+nsiservicemanager
+nsimsgmailsession
+nsxpidlstring
+nsmsgrdfutils
+nsimsgfolder
+nsmsgbasecid
+nsmsgincomingserver
+nsicategorymanager
+nsxpcom
+nsisupportsprimitives
+nsiprefservice
+nsiprefbranchinternal
+undef
+debugamds
+define
+ncrdfpagetitleprefix
+ncnamespaceuri
+pagetitle
+define
+ncrdfpagetitlemain
+ncrdfpagetitleprefix
+main
+define
+ncrdfpagetitleserver
+ncrdfpagetitleprefix
+server
+define
+ncrdfpagetitlecopies
+ncrdfpagetitleprefix
+copies
+define
+ncrdfpagetitleadvanced
+ncrdfpagetitleprefix
+advanced
+define
+ncrdfpagetitleofflineanddiskspace
+ncrdfpagetitleprefix
+offlineanddiskspace
+define
+ncrdfpagetitlediskspace
+ncrdfpagetitleprefix
+diskspace
+define
+ncrdfpagetitleaddressing
+ncrdfpagetitleprefix
+addressing
+define
+ncrdfpagetitlesmtp
+ncrdfpagetitleprefix
+smtp
+define
+ncrdfpagetitlefakeaccount
+ncrdfpagetitleprefix
+fakeaccount
+define
+ncrdfpagetag
+ncnamespaceuri
+pagetag
+define
+ncrdfaccountroot
+msgaccounts
+define
+prefshowfakeaccount
+mailnews
+fakeaccount
+show
+servercreationparams
+nsisupportsarray
+serverarray
+nsirdfservice
+rdfservice
+servercreationparams
+serverkey
+prbool
+found
+findserverbykeyentry
+nsirdfresource
+nsmsgaccountmanagerdatasource
+kncaccountroot
+nsnull
+nsirdfresource
+nsmsgaccountmanagerdatasource
+kncname
+nsnull
+nsirdfresource
+nsmsgaccountmanagerdatasource
+kncfoldertreename
+nsnull
+nsirdfresource
+nsmsgaccountmanagerdatasource
+kncfoldertreesimplename
+nsnull
+nsirdfresource
+nsmsgaccountmanagerdatasource
+kncnamesort
+nsnull
+nsirdfresource
+nsmsgaccountmanagerdatasource
+kncfoldertreenamesort
+nsnull
+nsirdfresource
+nsmsgaccountmanagerdatasource
+kncpagetag
+nsnull
+nsirdfresource
+nsmsgaccountmanagerdatasource
+kncisdefaultserver
+nsnull
+nsirdfresource
+nsmsgaccountmanagerdatasource
+kncsupportsfilters
+nsnull
+nsirdfresource
+nsmsgaccountmanagerdatasource
+knccangetmessages
+nsnull
+nsirdfresource
+nsmsgaccountmanagerdatasource
+knccangetincomingmessages
+nsnull
+nsirdfresource
+nsmsgaccountmanagerdatasource
+kncchild
+nsnull
+nsirdfresource
+nsmsgaccountmanagerdatasource
+kncsettings
+nsnull
+nsirdfresource
+nsmsgaccountmanagerdatasource
+kncaccount
+nsnull
+nsirdfresource
+nsmsgaccountmanagerdatasource
+kncserver
+nsnull
+nsirdfresource
+nsmsgaccountmanagerdatasource
+kncidentity
+nsnull
+nsirdfresource
+nsmsgaccountmanagerdatasource
+kncpagetitlemain
+nsnull
+nsirdfresource
+nsmsgaccountmanagerdatasource
+kncpagetitleserver
+nsnull
+nsirdfresource
+nsmsgaccountmanagerdatasource
+kncpagetitlecopies
+nsnull
+nsirdfresource
+nsmsgaccountmanagerdatasource
+kncpagetitleofflineanddiskspace
+nsnull
+nsirdfresource
+nsmsgaccountmanagerdatasource
+kncpagetitlediskspace
+nsnull
+nsirdfresource
+nsmsgaccountmanagerdatasource
+kncpagetitleaddressing
+nsnull
+nsirdfresource
+nsmsgaccountmanagerdatasource
+kncpagetitleadvanced
+nsnull
+nsirdfresource
+nsmsgaccountmanagerdatasource
+kncpagetitlesmtp
+nsnull
+nsirdfresource
+nsmsgaccountmanagerdatasource
+kncpagetitlefakeaccount
+nsnull
+nsirdfliteral
+nsmsgaccountmanagerdatasource
+ktrueliteral
+nsnull
+nsiatom
+nsmsgaccountmanagerdatasource
+kdefaultserveratom
+nsnull
+nsrefcnt
+nsmsgaccountmanagerdatasource
+gaccountmanagerresourcerefcnt
+nscomptr
+nsisupportsarray
+nsmsgaccountmanagerdatasource
+maccountarcsout
+nscomptr
+nsisupportsarray
+nsmsgaccountmanagerdatasource
+maccountrootarcsout
+define
+ncrdfaccount
+ncnamespaceuri
+account
+define
+ncrdfserver
+ncnamespaceuri
+server
+define
+ncrdfidentity
+ncnamespaceuri
+identity
+define
+ncrdfsettings
+ncnamespaceuri
+settings
+define
+ncrdfisdefaultserver
+ncnamespaceuri
+isdefaultserver
+define
+ncrdfsupportsfilters
+ncnamespaceuri
+supportsfilters
+define
+ncrdfcangetmessages
+ncnamespaceuri
+cangetmessages
+define
+ncrdfcangetincomingmessages
+ncnamespaceuri
+cangetincomingmessages
+nsmsgaccountmanagerdatasource
+nsmsgaccountmanagerdatasource
+ifdef
+debugamds
+printf
+nsmsgaccountmanagerdatasource
+being
+created
+endif
+gaccountmanagerresourcerefcnt
+getrdfservice
+getresource
+nsliteralcstring
+ncrdfchild
+kncchild
+getrdfservice
+getresource
+nsliteralcstring
+ncrdfname
+kncname
+getrdfservice
+getresource
+nsliteralcstring
+ncrdffoldertreename
+kncfoldertreename
+getrdfservice
+getresource
+nsliteralcstring
+ncrdffoldertreesimplename
+kncfoldertreesimplename
+getrdfservice
+getresource
+nsliteralcstring
+ncrdfnamesort
+kncnamesort
+getrdfservice
+getresource
+nsliteralcstring
+ncrdffoldertreenamesort
+kncfoldertreenamesort
+getrdfservice
+getresource
+nsliteralcstring
+ncrdfpagetag
+kncpagetag
+getrdfservice
+getresource
+nsliteralcstring
+ncrdfisdefaultserver
+kncisdefaultserver
+getrdfservice
+getresource
+nsliteralcstring
+ncrdfsupportsfilters
+kncsupportsfilters
+getrdfservice
+getresource
+nsliteralcstring
+ncrdfcangetmessages
+knccangetmessages
+getrdfservice
+getresource
+nsliteralcstring
+ncrdfcangetincomingmessages
+knccangetincomingmessages
+getrdfservice
+getresource
+nsliteralcstring
+ncrdfaccount
+kncaccount
+getrdfservice
+getresource
+nsliteralcstring
+ncrdfserver
+kncserver
+getrdfservice
+getresource
+nsliteralcstring
+ncrdfidentity
+kncidentity
+getrdfservice
+getresource
+nsliteralcstring
+ncrdfpagetitlemain
+kncpagetitlemain
+getrdfservice
+getresource
+nsliteralcstring
+ncrdfpagetitleserver
+kncpagetitleserver
+getrdfservice
+getresource
+nsliteralcstring
+ncrdfpagetitlecopies
+kncpagetitlecopies
+getrdfservice
+getresource
+nsliteralcstring
+ncrdfpagetitleofflineanddiskspace
+kncpagetitleofflineanddiskspace
+getrdfservice
+getresource
+nsliteralcstring
+ncrdfpagetitlediskspace
+kncpagetitlediskspace
+getrdfservice
+getresource
+nsliteralcstring
+ncrdfpagetitleaddressing
+kncpagetitleaddressing
+getrdfservice
+getresource
+nsliteralcstring
+ncrdfpagetitleadvanced
+kncpagetitleadvanced
+getrdfservice
+getresource
+nsliteralcstring
+ncrdfpagetitlesmtp
+kncpagetitlesmtp
+getrdfservice
+getresource
+nsliteralcstring
+ncrdfpagetitlefakeaccount
+kncpagetitlefakeaccount
+getrdfservice
+getresource
+nsliteralcstring
+ncrdfaccountroot
+kncaccountroot
+getrdfservice
+getliteral
+nsliteralstring
+get
+ktrueliteral
+getrdfservice
+getresource
+nsliteralcstring
+ncrdfsettings
+kncsettings
+kdefaultserveratom
+nsnewatom
+defaultserver
+nscomptr
+nsiprefbranchinternal
+prefbranchinternal
+nscomptr
+nsiprefservice
+prefs
+dogetservice
+nsprefservicecontractid
+prefs
+nscomptr
+nsiprefbranch
+prefbranch
+prefs
+getbranch
+nsnull
+getteraddrefs
+prefbranch
+prefbranch
+prefbranchinternal
+doqueryinterface
+prefbranch
+prefbranchinternal
+addobserver
+prefshowfakeaccount
+prfalse
+nsmsgaccountmanagerdatasource
+nsmsgaccountmanagerdatasource
+nscomptr
+nsimsgaccountmanager
+am
+doqueryreferent
+maccountmanager
+am
+am
+removeincomingserverlistener
+gaccountmanagerresourcerefcnt
+nsifrelease
+kncchild
+nsifrelease
+kncname
+nsifrelease
+kncfoldertreename
+nsifrelease
+kncfoldertreesimplename
+nsifrelease
+kncnamesort
+nsifrelease
+kncfoldertreenamesort
+nsifrelease
+kncpagetag
+nsifrelease
+kncisdefaultserver
+nsifrelease
+kncsupportsfilters
+nsifrelease
+knccangetmessages
+nsifrelease
+knccangetincomingmessages
+nsifrelease
+kncaccount
+nsifrelease
+kncserver
+nsifrelease
+kncidentity
+nsifrelease
+kncpagetitlemain
+nsifrelease
+kncpagetitleserver
+nsifrelease
+kncpagetitlecopies
+nsifrelease
+kncpagetitleofflineanddiskspace
+nsifrelease
+kncpagetitlediskspace
+nsifrelease
+kncpagetitleaddressing
+nsifrelease
+kncpagetitleadvanced
+nsifrelease
+kncpagetitlesmtp
+nsifrelease
+kncpagetitlefakeaccount
+nsifrelease
+ktrueliteral
+nsifrelease
+kncaccountroot
+nsifrelease
+kncsettings
+nsifrelease
+kdefaultserveratom
+maccountarcsout
+nsnull
+maccountrootarcsout
+nsnull
+nsimpladdrefinherited
+nsmsgaccountmanagerdatasource
+nsmsgrdfdatasource
+nsimplreleaseinherited
+nsmsgaccountmanagerdatasource
+nsmsgrdfdatasource
+nsinterfacemapbegin
+nsmsgaccountmanagerdatasource
+nsinterfacemapentry
+nsiincomingserverlistener
+nsinterfacemapentry
+nsifolderlistener
+nsinterfacemapendinheriting
+nsmsgrdfdatasource
+nsresult
+nsmsgaccountmanagerdatasource
+init
+nsresult
+rv
+rv
+nsmsgrdfdatasource
+init
+nsfailed
+rv
+rv
+nscomptr
+nsimsgaccountmanager
+am
+maccountmanager
+am
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+maccountmanager
+getteraddrefs
+nsgetweakreference
+am
+am
+doqueryreferent
+maccountmanager
+am
+am
+addincomingserverlistener
+am
+addrootfolderlistener
+nsok
+nsmsgaccountmanagerdatasource
+cleanup
+nscomptr
+nsimsgaccountmanager
+am
+doqueryreferent
+maccountmanager
+am
+am
+removeincomingserverlistener
+am
+removerootfolderlistener
+nsmsgrdfdatasource
+cleanup
+nsimethodimp
+nsmsgaccountmanagerdatasource
+gettarget
+nsirdfresource
+source
+nsirdfresource
+property
+prbool
+atruthvalue
+nsirdfnode
+target
+nsresult
+rv
+rv
+nsrdfnovalue
+nsautostring
+str
+property
+kncname
+property
+kncfoldertreename
+property
+kncfoldertreesimplename
+rv
+getstringbundle
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+pagetitle
+source
+kncpagetitleserver
+mstringbundle
+getstringfromname
+nsliteralstring
+prefpanel
+server
+get
+gettercopies
+pagetitle
+source
+kncpagetitlecopies
+mstringbundle
+getstringfromname
+nsliteralstring
+prefpanel
+copies
+get
+gettercopies
+pagetitle
+source
+kncpagetitleofflineanddiskspace
+mstringbundle
+getstringfromname
+nsliteralstring
+prefpanel
+offline
+diskspace
+get
+gettercopies
+pagetitle
+source
+kncpagetitlediskspace
+mstringbundle
+getstringfromname
+nsliteralstring
+prefpanel
+diskspace
+get
+gettercopies
+pagetitle
+source
+kncpagetitleaddressing
+mstringbundle
+getstringfromname
+nsliteralstring
+prefpanel
+addressing
+get
+gettercopies
+pagetitle
+source
+kncpagetitleadvanced
+mstringbundle
+getstringfromname
+nsliteralstring
+prefpanel
+advanced
+get
+gettercopies
+pagetitle
+source
+kncpagetitlesmtp
+mstringbundle
+getstringfromname
+nsliteralstring
+prefpanel
+smtp
+get
+gettercopies
+pagetitle
+source
+kncpagetitlefakeaccount
+nscomptr
+nsiprefservice
+prefs
+dogetservice
+nsprefservicecontractid
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+nssucceeded
+rv
+rv
+prefs
+getbranch
+nsnull
+getteraddrefs
+prefbranch
+prbool
+showfakeaccount
+rv
+prefbranch
+getboolpref
+prefshowfakeaccount
+showfakeaccount
+showfakeaccount
+nscomptr
+nsistringbundleservice
+strbundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsistringbundle
+bundle
+rv
+strbundleservice
+createbundle
+messenger
+locale
+fakeaccount
+properties
+getteraddrefs
+bundle
+nssucceeded
+rv
+bundle
+getstringfromname
+nsliteralstring
+prefpanel
+fake
+account
+get
+gettercopies
+pagetitle
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+source
+rv
+nssucceeded
+rv
+folder
+prbool
+isserver
+rv
+folder
+getisserver
+isserver
+nssucceeded
+rv
+isserver
+rv
+folder
+getprettyname
+gettercopies
+pagetitle
+nscomptr
+nsistringbundleservice
+strbundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsensuresuccess
+rv
+rv
+sourcevalue
+rv
+source
+getvalueconst
+sourcevalue
+nsensuresuccess
+rv
+rv
+nsensuretrue
+sourcevalue
+strlen
+sourcevalue
+strlen
+ncrdfpagetitleprefix
+nserrorunexpected
+nscautostring
+bundleurl
+bundleurl
+messenger
+locale
+bundleurl
+am
+bundleurl
+sourcevalue
+strlen
+ncrdfpagetitleprefix
+bundleurl
+properties
+nscomptr
+nsistringbundle
+bundle
+rv
+strbundleservice
+createbundle
+bundleurl
+get
+getteraddrefs
+bundle
+nsensuresuccess
+rv
+rv
+nsautostring
+paneltitlename
+paneltitlename
+nsliteralstring
+prefpanel
+paneltitlename
+appendwithconversion
+sourcevalue
+strlen
+ncrdfpagetitleprefix
+bundle
+getstringfromname
+paneltitlename
+get
+gettercopies
+pagetitle
+str
+pagetitle
+get
+property
+kncpagetag
+source
+kncpagetitleserver
+str
+nsliteralstring
+am
+server
+xul
+source
+kncpagetitlecopies
+str
+nsliteralstring
+am
+copies
+xul
+source
+kncpagetitleofflineanddiskspace
+source
+kncpagetitlediskspace
+str
+nsliteralstring
+am
+offline
+xul
+source
+kncpagetitleaddressing
+str
+nsliteralstring
+am
+addressing
+xul
+source
+kncpagetitleadvanced
+str
+nsliteralstring
+am
+advanced
+xul
+source
+kncpagetitlesmtp
+str
+nsliteralstring
+am
+smtp
+xul
+source
+kncpagetitlefakeaccount
+str
+nsliteralstring
+am
+fakeaccount
+xul
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+source
+rv
+nssucceeded
+rv
+folder
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserverforfoldernode
+source
+getteraddrefs
+server
+server
+prbool
+hasidentities
+rv
+serverhasidentities
+server
+hasidentities
+nssucceeded
+rv
+hasidentities
+str
+nsliteralstring
+am
+serverwithnoidentities
+xul
+str
+nsliteralstring
+am
+xul
+str
+nsliteralstring
+am
+xul
+sourcevalue
+rv
+source
+getvalueconst
+sourcevalue
+nsensuresuccess
+rv
+rv
+nsensuretrue
+sourcevalue
+strlen
+sourcevalue
+strlen
+ncrdfpagetitleprefix
+nserrorunexpected
+str
+nsliteralstring
+am
+str
+appendwithconversion
+sourcevalue
+strlen
+ncrdfpagetitleprefix
+str
+nsliteralstring
+xul
+property
+kncnamesort
+property
+kncfoldertreenamesort
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserverforfoldernode
+source
+getteraddrefs
+server
+nssucceeded
+rv
+server
+print
+accountnum
+nscomptr
+nsimsgaccountmanager
+am
+doqueryreferent
+maccountmanager
+isdefaultserver
+server
+str
+nsliteralstring
+rv
+am
+findserverindex
+server
+accountnum
+nsfailed
+rv
+rv
+nsxpidlcstring
+servertype
+server
+gettype
+gettercopies
+servertype
+nscrt
+strcasecmp
+servertype
+none
+accountnum
+nscrt
+strcasecmp
+servertype
+nntp
+accountnum
+accountnum
+str
+appendint
+accountnum
+sourcevalue
+rv
+source
+getvalueconst
+sourcevalue
+nsensuresuccess
+rv
+nsrdfnovalue
+sourcevalue
+strncmp
+sourcevalue
+ncrdfpagetitleprefix
+strlen
+ncrdfpagetitleprefix
+source
+kncpagetitlesmtp
+str
+nsliteralstring
+source
+kncpagetitlefakeaccount
+str
+nsliteralstring
+source
+kncpagetitleserver
+str
+nsliteralstring
+source
+kncpagetitlecopies
+str
+nsliteralstring
+source
+kncpagetitleaddressing
+str
+nsliteralstring
+source
+kncpagetitleofflineanddiskspace
+str
+nsliteralstring
+source
+kncpagetitlediskspace
+str
+nsliteralstring
+str
+assignwithconversion
+sourcevalue
+nsrdfnovalue
+property
+kncsettings
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+source
+rv
+nsfailed
+rv
+nsrdfnovalue
+prbool
+isserver
+prfalse
+folder
+getisserver
+isserver
+isserver
+str
+nsliteralstring
+serversettings
+property
+kncisdefaultserver
+nscomptr
+nsimsgincomingserver
+thisserver
+rv
+getserverforfoldernode
+source
+getteraddrefs
+thisserver
+nsfailed
+rv
+thisserver
+nsrdfnovalue
+isdefaultserver
+thisserver
+str
+nsliteralstring
+property
+kncsupportsfilters
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserverforfoldernode
+source
+getteraddrefs
+server
+nsfailed
+rv
+server
+nsrdfnovalue
+supportsfilters
+server
+str
+nsliteralstring
+property
+knccangetmessages
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserverforfoldernode
+source
+getteraddrefs
+server
+nsfailed
+rv
+server
+nsrdfnovalue
+cangetmessages
+server
+str
+nsliteralstring
+property
+knccangetincomingmessages
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserverforfoldernode
+source
+getteraddrefs
+server
+nsfailed
+rv
+server
+nsrdfnovalue
+cangetincomingmessages
+server
+str
+nsliteralstring
+property
+kncpagetitlefakeaccount
+source
+kncpagetitlefakeaccount
+str
+nsliteralstring
+str
+isempty
+rv
+createnode
+str
+get
+target
+getrdfservice
+nssucceeded
+rv
+rv
+nsrdfnovalue
+rv
+nsimethodimp
+nsmsgaccountmanagerdatasource
+gettargets
+nsirdfresource
+source
+nsirdfresource
+property
+prbool
+atruthvalue
+nsisimpleenumerator
+retval
+nsresult
+rv
+nsrdfnovalue
+nscomptr
+nsisupportsarray
+nodes
+rv
+nsnewisupportsarray
+getteraddrefs
+nodes
+nsfailed
+rv
+rv
+rv
+nsnewarrayenumerator
+retval
+nodes
+nsfailed
+rv
+rv
+ifdef
+debugamds
+nsxpidlcstring
+sourcevalue
+rv
+source
+getvalue
+gettercopies
+sourcevalue
+nsxpidlcstring
+propertyarc
+rv
+property
+getvalue
+gettercopies
+propertyarc
+nsfailed
+rv
+rv
+printf
+gettargets
+with
+arc
+sourcevalue
+propertyarc
+endif
+source
+kncaccountroot
+rv
+createrootresources
+property
+nodes
+property
+kncsettings
+rv
+createsettingsresources
+source
+nodes
+nsfailed
+rv
+nsrdfnovalue
+nsok
+nsresult
+nsmsgaccountmanagerdatasource
+createrootresources
+nsirdfresource
+property
+nsisupportsarray
+anodearray
+nsresult
+rv
+nsok
+iscontainment
+property
+nscomptr
+nsimsgaccountmanager
+am
+doqueryreferent
+maccountmanager
+am
+nserrorfailure
+nscomptr
+nsisupportsarray
+servers
+rv
+am
+getallservers
+getteraddrefs
+servers
+nsfailed
+rv
+rv
+servercreationparams
+params
+anodearray
+getrdfservice
+servers
+enumerateforwards
+createserverresources
+params
+ifdef
+debugamds
+pruint
+nodecount
+anodearray
+count
+nodecount
+printf
+gettargets
+added
+servers
+on
+nodecount
+propertyarc
+endif
+property
+kncsettings
+anodearray
+appendelement
+kncpagetitlesmtp
+isfakeaccountrequired
+anodearray
+appendelement
+kncpagetitlefakeaccount
+property
+kncchild
+isfakeaccountrequired
+anodearray
+appendelement
+kncpagetitlefakeaccount
+ifdef
+debugamds
+printf
+unknown
+arc
+on
+msgaccounts
+propertyarc
+endif
+rv
+nsresult
+nsmsgaccountmanagerdatasource
+appendgenericsettingsresources
+nsimsgincomingserver
+server
+nsisupportsarray
+anodearray
+nsresult
+rv
+nscomptr
+nsicategorymanager
+catman
+dogetservice
+nscategorymanagercontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisimpleenumerator
+rv
+catman
+enumeratecategory
+mailnewsaccountmanagerextensions
+getteraddrefs
+nssucceeded
+rv
+prtrue
+nscomptr
+nsisupportscstring
+catentry
+rv
+getnext
+getteraddrefs
+catentry
+nsfailed
+rv
+catentry
+nscautostring
+entrystring
+rv
+catentry
+getdata
+entrystring
+nsfailed
+rv
+nsxpidlcstring
+contractidstring
+rv
+catman
+getcategoryentry
+mailnewsaccountmanagerextensions
+entrystring
+get
+gettercopies
+contractidstring
+nsfailed
+rv
+nscomptr
+nsimsgaccountmanagerextension
+extension
+dogetservice
+contractidstring
+get
+rv
+nsfailed
+rv
+extension
+prbool
+showpanel
+rv
+extension
+showpanel
+server
+showpanel
+nsfailed
+rv
+showpanel
+nsxpidlcstring
+name
+rv
+extension
+getname
+gettercopies
+name
+nsfailed
+rv
+rv
+appendgenericsetting
+name
+get
+anodearray
+nsfailed
+rv
+nsok
+nsresult
+nsmsgaccountmanagerdatasource
+appendgenericsetting
+name
+nsisupportsarray
+anodearray
+nsensureargpointer
+name
+nsensureargpointer
+anodearray
+nscomptr
+nsirdfresource
+resource
+nscautostring
+resourcestr
+resourcestr
+ncrdfpagetitleprefix
+resourcestr
+name
+nsresult
+rv
+getrdfservice
+getresource
+resourcestr
+getteraddrefs
+resource
+nsensuresuccess
+rv
+rv
+anodearray
+appendelement
+resource
+nsok
+nsresult
+nsmsgaccountmanagerdatasource
+createsettingsresources
+nsirdfresource
+asource
+nsisupportsarray
+anodearray
+nsresult
+rv
+asource
+kncpagetitlesmtp
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserverforfoldernode
+asource
+getteraddrefs
+server
+nsfailed
+rv
+rv
+server
+prbool
+hasidentities
+rv
+serverhasidentities
+server
+hasidentities
+nsfailed
+rv
+rv
+hasidentities
+anodearray
+appendelement
+kncpagetitleserver
+anodearray
+appendelement
+kncpagetitlecopies
+anodearray
+appendelement
+kncpagetitleaddressing
+print
+offlinesupportlevel
+rv
+server
+getofflinesupportlevel
+offlinesupportlevel
+nsensuresuccess
+rv
+rv
+prbool
+supportsdiskspace
+rv
+server
+getsupportsdiskspace
+supportsdiskspace
+nsensuresuccess
+rv
+rv
+offlinesupportlevel
+offlinesupportlevelregular
+anodearray
+appendelement
+kncpagetitleofflineanddiskspace
+supportsdiskspace
+anodearray
+appendelement
+kncpagetitlediskspace
+rv
+appendgenericsettingsresources
+server
+anodearray
+nsassertion
+nssucceeded
+rv
+failed
+to
+add
+generic
+panels
+nsok
+nsresult
+nsmsgaccountmanagerdatasource
+serverhasidentities
+nsimsgincomingserver
+aserver
+prbool
+aresult
+nsresult
+rv
+aresult
+prfalse
+nscomptr
+nsimsgaccountmanager
+am
+doqueryreferent
+maccountmanager
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsisupportsarray
+identities
+rv
+am
+getidentitiesforserver
+aserver
+getteraddrefs
+identities
+nsfailed
+rv
+nsok
+pruint
+count
+rv
+identities
+count
+count
+nsfailed
+rv
+nsok
+count
+aresult
+prtrue
+nsok
+prbool
+nsmsgaccountmanagerdatasource
+createserverresources
+nsisupports
+element
+data
+nsresult
+rv
+servercreationparams
+params
+servercreationparams
+data
+nscomptr
+nsisupportsarray
+servers
+params
+serverarray
+nscomptr
+nsirdfservice
+rdf
+params
+rdfservice
+nscomptr
+nsimsgincomingserver
+server
+doqueryinterface
+element
+rv
+nsfailed
+rv
+prtrue
+nscomptr
+nsifolder
+serverfolder
+rv
+server
+getrootfolder
+getteraddrefs
+serverfolder
+nsfailed
+rv
+prtrue
+nscomptr
+nsirdfresource
+serverresource
+doqueryinterface
+serverfolder
+serverresource
+prtrue
+rv
+servers
+appendelement
+serverresource
+nsfailed
+rv
+prtrue
+prtrue
+nsresult
+nsmsgaccountmanagerdatasource
+getaccountarcs
+nsisupportsarray
+aresult
+nsresult
+rv
+maccountarcsout
+rv
+nsnewisupportsarray
+getteraddrefs
+maccountarcsout
+nsensuresuccess
+rv
+rv
+maccountarcsout
+appendelement
+kncsettings
+maccountarcsout
+appendelement
+kncname
+maccountarcsout
+appendelement
+kncfoldertreename
+maccountarcsout
+appendelement
+kncfoldertreesimplename
+maccountarcsout
+appendelement
+kncnamesort
+maccountarcsout
+appendelement
+kncfoldertreenamesort
+maccountarcsout
+appendelement
+kncpagetag
+aresult
+maccountarcsout
+nsifaddref
+aresult
+nsok
+nsresult
+nsmsgaccountmanagerdatasource
+getaccountrootarcs
+nsisupportsarray
+aresult
+nsresult
+rv
+maccountrootarcsout
+rv
+nsnewisupportsarray
+getteraddrefs
+maccountrootarcsout
+nsensuresuccess
+rv
+rv
+maccountrootarcsout
+appendelement
+kncserver
+maccountrootarcsout
+appendelement
+kncchild
+maccountrootarcsout
+appendelement
+kncsettings
+maccountrootarcsout
+appendelement
+kncname
+maccountrootarcsout
+appendelement
+kncfoldertreename
+maccountrootarcsout
+appendelement
+kncfoldertreesimplename
+maccountrootarcsout
+appendelement
+kncnamesort
+maccountrootarcsout
+appendelement
+kncfoldertreenamesort
+maccountrootarcsout
+appendelement
+kncpagetag
+aresult
+maccountrootarcsout
+nsifaddref
+aresult
+nsok
+nsimethodimp
+nsmsgaccountmanagerdatasource
+hasarcout
+nsirdfresource
+source
+nsirdfresource
+aarc
+prbool
+result
+nsresult
+rv
+nsok
+aarc
+kncsettings
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserverforfoldernode
+source
+getteraddrefs
+server
+server
+serverhasidentities
+server
+result
+result
+prfalse
+nsok
+nsimethodimp
+nsmsgaccountmanagerdatasource
+arclabelsout
+nsirdfresource
+source
+nsisimpleenumerator
+retval
+nsresult
+rv
+nscomptr
+nsisupportsarray
+arcs
+source
+kncaccountroot
+rv
+getaccountrootarcs
+getteraddrefs
+arcs
+rv
+getaccountarcs
+getteraddrefs
+arcs
+nsensuresuccess
+rv
+rv
+rv
+nsnewarrayenumerator
+retval
+arcs
+nsfailed
+rv
+rv
+ifdef
+debugamds
+printf
+getarclabelsout
+adding
+child
+settings
+name
+arclabels
+value
+endif
+nsok
+nsimethodimp
+nsmsgaccountmanagerdatasource
+hasassertion
+nsirdfresource
+asource
+nsirdfresource
+aproperty
+nsirdfnode
+atarget
+prbool
+atruthvalue
+prbool
+retval
+nsresult
+rv
+nserrorfailure
+asource
+kncaccountroot
+rv
+hasassertionaccountroot
+aproperty
+atarget
+atruthvalue
+retval
+aproperty
+kncisdefaultserver
+aproperty
+knccangetmessages
+aproperty
+knccangetincomingmessages
+aproperty
+kncsupportsfilters
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserverforfoldernode
+asource
+getteraddrefs
+server
+nssucceeded
+rv
+server
+rv
+hasassertionserver
+server
+aproperty
+atarget
+atruthvalue
+retval
+nsfailed
+rv
+nsmsgrdfdatasource
+hasassertion
+asource
+aproperty
+atarget
+atruthvalue
+retval
+nsok
+nsresult
+nsmsgaccountmanagerdatasource
+hasassertionserver
+nsimsgincomingserver
+aserver
+nsirdfresource
+aproperty
+nsirdfnode
+atarget
+prbool
+atruthvalue
+prbool
+retval
+aproperty
+kncisdefaultserver
+retval
+atarget
+ktrueliteral
+isdefaultserver
+aserver
+isdefaultserver
+aserver
+aproperty
+kncsupportsfilters
+retval
+atarget
+ktrueliteral
+supportsfilters
+aserver
+supportsfilters
+aserver
+aproperty
+knccangetmessages
+retval
+atarget
+ktrueliteral
+cangetmessages
+aserver
+cangetmessages
+aserver
+aproperty
+knccangetincomingmessages
+retval
+atarget
+ktrueliteral
+cangetincomingmessages
+aserver
+cangetincomingmessages
+aserver
+retval
+prfalse
+nsok
+prbool
+nsmsgaccountmanagerdatasource
+isdefaultserver
+nsimsgincomingserver
+aserver
+nsresult
+rv
+aserver
+prfalse
+nscomptr
+nsimsgaccountmanager
+am
+doqueryreferent
+maccountmanager
+rv
+nsensuresuccess
+rv
+prfalse
+nscomptr
+nsimsgaccount
+defaultaccount
+rv
+am
+getdefaultaccount
+getteraddrefs
+defaultaccount
+nsensuresuccess
+rv
+prfalse
+defaultaccount
+prfalse
+nscomptr
+nsimsgincomingserver
+defaultserver
+rv
+defaultaccount
+getincomingserver
+getteraddrefs
+defaultserver
+nsensuresuccess
+rv
+prfalse
+defaultserver
+prfalse
+prbool
+isequal
+rv
+defaultserver
+equals
+aserver
+isequal
+nsensuresuccess
+rv
+prfalse
+isequal
+prbool
+nsmsgaccountmanagerdatasource
+supportsfilters
+nsimsgincomingserver
+aserver
+prbool
+supportsfilters
+nsresult
+rv
+aserver
+getcanhavefilters
+supportsfilters
+nsensuresuccess
+rv
+prfalse
+supportsfilters
+prbool
+nsmsgaccountmanagerdatasource
+cangetmessages
+nsimsgincomingserver
+aserver
+nsxpidlcstring
+type
+nsresult
+rv
+aserver
+gettype
+gettercopies
+type
+nsensuresuccess
+rv
+prfalse
+nscautostring
+contractid
+nsmsgprotocolinfocontractidprefix
+contractid
+append
+type
+nscomptr
+nsimsgprotocolinfo
+protocolinfo
+dogetservice
+contractid
+get
+rv
+nsensuresuccess
+rv
+prfalse
+prbool
+cangetmessages
+prfalse
+protocolinfo
+getcangetmessages
+cangetmessages
+cangetmessages
+prbool
+nsmsgaccountmanagerdatasource
+cangetincomingmessages
+nsimsgincomingserver
+aserver
+nsxpidlcstring
+type
+nsresult
+rv
+aserver
+gettype
+gettercopies
+type
+nsensuresuccess
+rv
+prfalse
+nscautostring
+contractid
+nsmsgprotocolinfocontractidprefix
+contractid
+append
+type
+nscomptr
+nsimsgprotocolinfo
+protocolinfo
+dogetservice
+contractid
+get
+rv
+nsensuresuccess
+rv
+prfalse
+prbool
+cangetincomingmessages
+prfalse
+protocolinfo
+getcangetincomingmessages
+cangetincomingmessages
+cangetincomingmessages
+nsresult
+nsmsgaccountmanagerdatasource
+hasassertionaccountroot
+nsirdfresource
+aproperty
+nsirdfnode
+atarget
+prbool
+atruthvalue
+prbool
+retval
+nsresult
+rv
+retval
+prfalse
+iscontainment
+aproperty
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserverforfoldernode
+atarget
+getteraddrefs
+server
+nsfailed
+rv
+server
+rv
+nsxpidlcstring
+serverkey
+server
+getkey
+gettercopies
+serverkey
+nscomptr
+nsimsgaccountmanager
+am
+doqueryreferent
+maccountmanager
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsisupportsarray
+serverarray
+rv
+am
+getallservers
+getteraddrefs
+serverarray
+nsfailed
+rv
+rv
+findserverbykeyentry
+entry
+entry
+serverkey
+serverkey
+entry
+found
+prfalse
+serverarray
+enumerateforwards
+findserverbykey
+entry
+retval
+entry
+found
+nsok
+prbool
+nsmsgaccountmanagerdatasource
+iscontainment
+nsirdfresource
+aproperty
+aproperty
+kncchild
+aproperty
+kncsettings
+prtrue
+prfalse
+nsresult
+nsmsgaccountmanagerdatasource
+getserverforfoldernode
+nsirdfnode
+aresource
+nsimsgincomingserver
+aresult
+getserverforobject
+aresource
+aresult
+nsresult
+nsmsgaccountmanagerdatasource
+getserverforobject
+nsisupports
+aobject
+nsimsgincomingserver
+aresult
+nsresult
+rv
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+aobject
+rv
+nssucceeded
+rv
+prbool
+isserver
+rv
+folder
+getisserver
+isserver
+nssucceeded
+rv
+isserver
+folder
+getserver
+aresult
+nserrorfailure
+prbool
+nsmsgaccountmanagerdatasource
+findserverbykey
+nsisupports
+aelement
+adata
+nsresult
+rv
+findserverbykeyentry
+entry
+findserverbykeyentry
+adata
+nscomptr
+nsimsgincomingserver
+server
+doqueryinterface
+aelement
+rv
+nsfailed
+rv
+prtrue
+nsxpidlcstring
+key
+server
+getkey
+gettercopies
+key
+nscrt
+strcmp
+key
+entry
+serverkey
+entry
+found
+prtrue
+prfalse
+prtrue
+nsresult
+nsmsgaccountmanagerdatasource
+getstringbundle
+mstringbundle
+nsok
+nsresult
+rv
+nscomptr
+nsistringbundleservice
+strbundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsfailed
+rv
+rv
+rv
+strbundleservice
+createbundle
+messenger
+locale
+prefs
+properties
+getteraddrefs
+mstringbundle
+rv
+nsimethodimp
+nsmsgaccountmanagerdatasource
+onserverloaded
+nsimsgincomingserver
+aserver
+nsresult
+rv
+nscomptr
+nsifolder
+serverfolder
+rv
+aserver
+getrootfolder
+getteraddrefs
+serverfolder
+nsfailed
+rv
+rv
+nscomptr
+nsirdfresource
+serverresource
+doqueryinterface
+serverfolder
+rv
+nsfailed
+rv
+rv
+ifdef
+debugalecf
+nsxpidlcstring
+serveruri
+serverresource
+getvalue
+gettercopies
+serveruri
+printf
+nsmsgaccountmanagerdatasource
+onserverloaded
+serveruri
+endif
+notifyobservers
+kncaccountroot
+kncchild
+serverresource
+prtrue
+prfalse
+notifyobservers
+kncaccountroot
+kncsettings
+serverresource
+prtrue
+prfalse
+prbool
+fakeaccountserver
+isincomingserverforfakeaccount
+aserver
+fakeaccountserver
+fakeaccountserver
+notifyobservers
+kncaccountroot
+kncchild
+kncpagetitlefakeaccount
+prfalse
+prfalse
+notifyobservers
+kncaccountroot
+kncsettings
+kncpagetitlefakeaccount
+prfalse
+prfalse
+nsok
+nsimethodimp
+nsmsgaccountmanagerdatasource
+onserverunloaded
+nsimsgincomingserver
+aserver
+nsresult
+rv
+nscomptr
+nsifolder
+serverfolder
+rv
+aserver
+getrootfolder
+getteraddrefs
+serverfolder
+nsfailed
+rv
+rv
+nscomptr
+nsirdfresource
+serverresource
+doqueryinterface
+serverfolder
+rv
+nsfailed
+rv
+rv
+notifyobservers
+kncaccountroot
+kncchild
+serverresource
+prfalse
+prfalse
+notifyobservers
+kncaccountroot
+kncsettings
+serverresource
+prfalse
+prfalse
+nsok
+nsimethodimp
+nsmsgaccountmanagerdatasource
+onserverchanged
+nsimsgincomingserver
+server
+nsok
+nsresult
+nsmsgaccountmanagerdatasource
+onitempropertychanged
+nsisupports
+nsiatom
+nsok
+nsresult
+nsmsgaccountmanagerdatasource
+onitemunicharpropertychanged
+nsisupports
+nsiatom
+prunichar
+prunichar
+nsok
+nsresult
+nsmsgaccountmanagerdatasource
+onitemremoved
+nsisupports
+nsisupports
+nsok
+nsresult
+nsmsgaccountmanagerdatasource
+onitempropertyflagchanged
+nsisupports
+nsiatom
+pruint
+pruint
+nsok
+nsresult
+nsmsgaccountmanagerdatasource
+onitemadded
+nsisupports
+nsisupports
+nsok
+nsresult
+nsmsgaccountmanagerdatasource
+onitemboolpropertychanged
+nsisupports
+aitem
+nsiatom
+aproperty
+prbool
+aoldvalue
+prbool
+anewvalue
+nsresult
+rv
+aproperty
+kdefaultserveratom
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserverforobject
+aitem
+getteraddrefs
+server
+nsfailed
+rv
+nsok
+nscomptr
+nsirdfresource
+serverresource
+doqueryinterface
+aitem
+rv
+nsfailed
+rv
+nsok
+notifyobservers
+serverresource
+kncisdefaultserver
+ktrueliteral
+anewvalue
+prfalse
+nsok
+nsresult
+nsmsgaccountmanagerdatasource
+onitemevent
+nsifolder
+nsiatom
+nsok
+nsresult
+nsmsgaccountmanagerdatasource
+onitemintpropertychanged
+nsisupports
+nsiatom
+print
+print
+nsok
+prbool
+nsmsgaccountmanagerdatasource
+isfakeaccountrequired
+nsresult
+rv
+nscomptr
+nsiprefservice
+prefs
+dogetservice
+nsprefservicecontractid
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+nssucceeded
+rv
+rv
+prefs
+getbranch
+nsnull
+getteraddrefs
+prefbranch
+prbool
+showfakeaccount
+rv
+prefbranch
+getboolpref
+prefshowfakeaccount
+showfakeaccount
+showfakeaccount
+prfalse
+nsxpidlcstring
+fakehostname
+rv
+getfakeaccounthostname
+gettercopies
+fakehostname
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgaccountmanager
+accountmanager
+doqueryreferent
+maccountmanager
+accountmanager
+nserrorfailure
+nscomptr
+nsimsgincomingserver
+server
+fakehostname
+isempty
+rv
+accountmanager
+findserver
+fakehostname
+get
+getteraddrefs
+server
+nssucceeded
+rv
+server
+prfalse
+prtrue
+nsresult
+nsmsgaccountmanagerdatasource
+isincomingserverforfakeaccount
+nsimsgincomingserver
+aserver
+prbool
+aresult
+nsensureargpointer
+aserver
+nsensureargpointer
+aresult
+nsresult
+rv
+nsxpidlcstring
+fakeaccounthostname
+rv
+getfakeaccounthostname
+gettercopies
+fakeaccounthostname
+nsensuresuccess
+rv
+rv
+fakeaccounthostname
+isempty
+aresult
+prfalse
+nsok
+nsxpidlcstring
+hostname
+rv
+aserver
+gethostname
+gettercopies
+hostname
+nsensuresuccess
+rv
+rv
+aresult
+strcmp
+hostname
+get
+fakeaccounthostname
+get
+nsok
+nsresult
+nsmsgaccountmanagerdatasource
+getfakeaccounthostname
+ahostname
+nsensureargpointer
+ahostname
+nsresult
+rv
+nscomptr
+nsiprefservice
+prefs
+dogetservice
+nsprefservicecontractid
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+nssucceeded
+rv
+rv
+prefs
+getbranch
+nsnull
+getteraddrefs
+prefbranch
+rv
+prefbranch
+getcharpref
+mailnews
+fakeaccount
+server
+ahostname
+nsok
+nsimethodimp
+nsmsgaccountmanagerdatasource
+observe
+nsisupports
+asubject
+atopic
+prunichar
+adata
+nsmsgrdfdatasource
+observe
+asubject
+atopic
+adata
+strcmp
+atopic
+nsprefbranchprefchangetopicid
+nsdependentstring
+prefname
+adata
+prefname
+equals
+nsliteralstring
+prefshowfakeaccount
+notifyobservers
+kncaccountroot
+kncchild
+kncpagetitlefakeaccount
+prfalse
+prfalse
+notifyobservers
+kncaccountroot
+kncsettings
+kncpagetitlefakeaccount
+prfalse
+prfalse
+strcmp
+atopic
+nsxpcomshutdownobserverid
+nscomptr
+nsiprefbranchinternal
+prefbranchinternal
+nscomptr
+nsiprefservice
+prefs
+dogetservice
+nsprefservicecontractid
+prefs
+nscomptr
+nsiprefbranch
+prefbranch
+prefs
+getbranch
+nsnull
+getteraddrefs
+prefbranch
+prefbranch
+prefbranchinternal
+doqueryinterface
+prefbranch
+prefbranchinternal
+removeobserver
+prefshowfakeaccount
+nsok nsresult
\ No newline at end of file
@@ -0,0 +1,424 @@
+nsmsgbiffmanager
+nscrt
+nsimsgmailsession
+nsimsgaccountmanager
+nsmsgbasecid
+nsiobserverservice
+nsstatusbarbiffmanager
+nsdefinecid
+kstatusbarbiffmanagercid
+nsstatusbarbiffmanagercid
+nsimplisupports
+nsmsgbiffmanager
+nsimsgbiffmanager
+nsiincomingserverlistener
+nsiobserver
+nsisupportsweakreference
+onbifftimer
+nsitimer
+timer
+abiffmanager
+nsmsgbiffmanager
+biffmanager
+nsmsgbiffmanager
+abiffmanager
+biffmanager
+performbiff
+nsmsgbiffmanager
+nsmsgbiffmanager
+mbiffarray
+nsnull
+mhaveshutdown
+prfalse
+minited
+prfalse
+nsmsgbiffmanager
+nsmsgbiffmanager
+mbifftimer
+mbifftimer
+cancel
+print
+count
+mbiffarray
+count
+print
+count
+nsbiffentry
+biffentry
+nsbiffentry
+mbiffarray
+elementat
+biffentry
+mbiffarray
+mhaveshutdown
+shutdown
+nsimethodimp
+nsmsgbiffmanager
+init
+minited
+nsok
+minited
+prtrue
+nsresult
+rv
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nssucceeded
+rv
+accountmanager
+addincomingserverlistener
+mhaveshutdown
+mhaveshutdown
+prfalse
+nsok
+mbiffarray
+nsvoidarray
+mbiffarray
+nserroroutofmemory
+nscomptr
+nsiobserverservice
+observerservice
+dogetservice
+observer
+service
+rv
+nssucceeded
+rv
+observerservice
+addobserver
+nsxpcomshutdownobserverid
+prtrue
+nscomptr
+nsstatusbarbiffmanager
+statusbarbiffservice
+dogetservice
+kstatusbarbiffmanagercid
+rv
+nsok
+nsimethodimp
+nsmsgbiffmanager
+shutdown
+mbifftimer
+mbifftimer
+cancel
+mbifftimer
+nsnull
+nsresult
+rv
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nssucceeded
+rv
+accountmanager
+removeincomingserverlistener
+mhaveshutdown
+prtrue
+minited
+prfalse
+nsok
+nsimethodimp
+nsmsgbiffmanager
+addserverbiff
+nsimsgincomingserver
+server
+nsresult
+rv
+print
+biffminutes
+rv
+server
+getbiffminutes
+biffminutes
+nsfailed
+rv
+rv
+biffminutes
+print
+serverindex
+findserver
+server
+serverindex
+nsbiffentry
+biffentry
+nsbiffentry
+biffentry
+nserroroutofmemory
+biffentry
+server
+server
+nstime
+currenttime
+rv
+setnextbifftime
+biffentry
+currenttime
+nsfailed
+rv
+rv
+addbiffentry
+biffentry
+setupnextbiff
+nsok
+nsimethodimp
+nsmsgbiffmanager
+removeserverbiff
+nsimsgincomingserver
+server
+print
+pos
+findserver
+server
+pos
+nsbiffentry
+biffentry
+nsbiffentry
+mbiffarray
+elementat
+pos
+mbiffarray
+removeelementat
+pos
+biffentry
+nsok
+nsimethodimp
+nsmsgbiffmanager
+forcebiff
+nsimsgincomingserver
+server
+nsok
+nsimethodimp
+nsmsgbiffmanager
+forcebiffall
+nsok
+nsimethodimp
+nsmsgbiffmanager
+onserverloaded
+nsimsgincomingserver
+server
+nsresult
+rv
+prbool
+dobiff
+prfalse
+rv
+server
+getdobiff
+dobiff
+nssucceeded
+rv
+dobiff
+rv
+addserverbiff
+server
+rv
+nsimethodimp
+nsmsgbiffmanager
+onserverunloaded
+nsimsgincomingserver
+server
+removeserverbiff
+server
+nsimethodimp
+nsmsgbiffmanager
+onserverchanged
+nsimsgincomingserver
+server
+nsok
+nsimethodimp
+nsmsgbiffmanager
+observe
+nsisupports
+asubject
+atopic
+prunichar
+somedata
+nscrt
+strcmp
+atopic
+nsxpcomshutdownobserverid
+shutdown
+nsok
+print
+nsmsgbiffmanager
+findserver
+nsimsgincomingserver
+server
+print
+count
+mbiffarray
+count
+print
+count
+nsbiffentry
+biffentry
+nsbiffentry
+mbiffarray
+elementat
+server
+biffentry
+server
+get
+nsresult
+nsmsgbiffmanager
+addbiffentry
+nsbiffentry
+biffentry
+print
+print
+count
+mbiffarray
+count
+count
+nsbiffentry
+current
+nsbiffentry
+mbiffarray
+elementat
+biffentry
+nextbifftime
+current
+nextbifftime
+mbiffarray
+insertelementat
+biffentry
+nsok
+nsresult
+nsmsgbiffmanager
+setnextbifftime
+nsbiffentry
+biffentry
+nstime
+starttime
+nsresult
+rv
+nsimsgincomingserver
+server
+biffentry
+server
+server
+nserrorfailure
+print
+biffinterval
+rv
+server
+getbiffminutes
+biffinterval
+nsfailed
+rv
+rv
+nsint
+chosentimeinterval
+biffinterval
+chosentimeinterval
+biffentry
+nextbifftime
+starttime
+biffentry
+nextbifftime
+chosentimeinterval
+nsok
+nsresult
+nsmsgbiffmanager
+setupnextbiff
+mbiffarray
+count
+nsbiffentry
+biffentry
+nsbiffentry
+mbiffarray
+elementat
+nstime
+currenttime
+nsint
+biffdelay
+nsint
+ms
+currenttime
+biffentry
+nextbifftime
+biffdelay
+biffdelay
+biffentry
+nextbifftime
+currenttime
+nsint
+timeinms
+biffdelay
+ms
+pruint
+timeinmsuint
+pruint
+timeinms
+mbifftimer
+mbifftimer
+cancel
+mbifftimer
+docreateinstance
+timer
+mbifftimer
+initwithfunccallback
+onbifftimer
+timeinmsuint
+nsitimer
+typeoneshot
+nsok
+nsresult
+nsmsgbiffmanager
+performbiff
+nstime
+currenttime
+print
+mbiffarray
+count
+nsbiffentry
+current
+nsbiffentry
+mbiffarray
+elementat
+current
+nextbifftime
+currenttime
+prbool
+serverbusy
+prfalse
+prbool
+serverrequirespassword
+prtrue
+prbool
+userauthenticated
+current
+server
+getisauthenticated
+userauthenticated
+current
+server
+getserverbusy
+serverbusy
+current
+server
+getserverrequirespasswordforbiff
+serverrequirespassword
+serverbusy
+serverrequirespassword
+userauthenticated
+current
+server
+performbiff
+nsnull
+mbiffarray
+removeelementat
+setnextbifftime
+current
+currenttime
+addbiffentry
+current
+setupnextbiff
+nsok
\ No newline at end of file
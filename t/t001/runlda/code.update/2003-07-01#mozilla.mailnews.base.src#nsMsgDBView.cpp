@@ -0,0 +1,9801 @@
+msgcore
+nsreadableutils
+nsmsgdbview
+nsisupports
+nsimsgfolder
+nsidbfolderinfo
+nsimsgdatabase
+nsimsgfolder
+mailnewstypes
+nsmsgutils
+nsxpidlstring
+nsquicksort
+nsimsgimapmailfolder
+nsimapcore
+nsmsgfolderflags
+nsimsglocalmailfolder
+nsidomelement
+nsdatetimeformatcid
+nsmsgmimecid
+nsiprefservice
+nsiprefbranch
+nsiprefbranchinternal
+nsipreflocalizedstring
+nsimsgsearchsession
+nsimsgcopyservice
+nsmsgbasecid
+nsispamsettings
+nsdefinecid
+kdatetimeformatcid
+nsdatetimeformatcid
+nsrefcnt
+nsmsgdbview
+ginstancecount
+ifdef
+supportprioritycolors
+nsiatom
+nsmsgdbview
+khighestpriorityatom
+nsnull
+nsiatom
+nsmsgdbview
+khighpriorityatom
+nsnull
+nsiatom
+nsmsgdbview
+klowestpriorityatom
+nsnull
+nsiatom
+nsmsgdbview
+klowpriorityatom
+nsnull
+endif
+nsiatom
+nsmsgdbview
+kunreadmsgatom
+nsnull
+nsiatom
+nsmsgdbview
+knewmsgatom
+nsnull
+nsiatom
+nsmsgdbview
+kreadmsgatom
+nsnull
+nsiatom
+nsmsgdbview
+kofflinemsgatom
+nsnull
+nsiatom
+nsmsgdbview
+kflaggedmsgatom
+nsnull
+nsiatom
+nsmsgdbview
+knewsmsgatom
+nsnull
+nsiatom
+nsmsgdbview
+kimapdeletedmsgatom
+nsnull
+nsiatom
+nsmsgdbview
+kattachmsgatom
+nsnull
+nsiatom
+nsmsgdbview
+khasunreadatom
+nsnull
+nsiatom
+nsmsgdbview
+kwatchthreadatom
+nsnull
+nsiatom
+nsmsgdbview
+kignorethreadatom
+nsnull
+nsiatom
+nsmsgdbview
+khasimageatom
+nsnull
+nsiatom
+nsmsgdbview
+kjunkmsgatom
+nsnull
+nsiatom
+nsmsgdbview
+knotjunkmsgatom
+nsnull
+nsiatom
+nsmsgdbview
+mlabelprefcoloratoms
+preflabelsmax
+nsnull
+nsnull
+nsnull
+nsnull
+nsnull
+nsiatom
+nsmsgdbview
+klabelcolorwhiteatom
+nsnull
+nsiatom
+nsmsgdbview
+klabelcolorblackatom
+nsnull
+prunichar
+nsmsgdbview
+khighestprioritystring
+nsnull
+prunichar
+nsmsgdbview
+khighprioritystring
+nsnull
+prunichar
+nsmsgdbview
+klowestprioritystring
+nsnull
+prunichar
+nsmsgdbview
+klowprioritystring
+nsnull
+prunichar
+nsmsgdbview
+knormalprioritystring
+nsnull
+prunichar
+nsmsgdbview
+kreadstring
+nsnull
+prunichar
+nsmsgdbview
+krepliedstring
+nsnull
+prunichar
+nsmsgdbview
+kforwardedstring
+nsnull
+prunichar
+nsmsgdbview
+knewstring
+nsnull
+nsdateformatselector
+nsmsgdbview
+mdateformatdefault
+kdateformatshort
+nsdateformatselector
+nsmsgdbview
+mdateformatthisweek
+kdateformatshort
+nsdateformatselector
+nsmsgdbview
+mdateformattoday
+kdateformatnone
+nsimpladdref
+nsmsgdbview
+nsimplrelease
+nsmsgdbview
+nsinterfacemapbegin
+nsmsgdbview
+nsinterfacemapentryambiguous
+nsisupports
+nsimsgdbview
+nsinterfacemapentry
+nsimsgdbview
+nsinterfacemapentry
+nsidbchangelistener
+nsinterfacemapentry
+nsitreeview
+nsinterfacemapentry
+nsiobserver
+nsinterfacemapentry
+nsijunkmailclassificationlistener
+nsinterfacemapend
+nsmsgdbview
+nsmsgdbview
+msortvalid
+prfalse
+msortorder
+nsmsgviewsortorder
+none
+mviewflags
+nsmsgviewflagstype
+knone
+mcachedmsgkey
+nsmsgkeynone
+mcurrentlydisplayedmsgkey
+nsmsgkeynone
+mnumselectedrows
+msuppressmsgdisplay
+prfalse
+msuppresscommandupdating
+prfalse
+mtreatrecipientasauthor
+prfalse
+misnews
+prfalse
+mdeletemodel
+nsmsgimapdeletemodels
+movetotrash
+mdeletingrows
+prfalse
+moutstandingjunkbatches
+mcommandsneeddisablingbecauseoffline
+prfalse
+mremovingrow
+prfalse
+msaverestoreselectiondepth
+ginstancecount
+initializeatomsandliterals
+initdisplayformats
+addlabelprefobservers
+ginstancecount
+nsmsgdbview
+initializeatomsandliterals
+kunreadmsgatom
+nsnewatom
+unread
+knewmsgatom
+nsnewatom
+kreadmsgatom
+nsnewatom
+read
+kofflinemsgatom
+nsnewatom
+offline
+kflaggedmsgatom
+nsnewatom
+flagged
+knewsmsgatom
+nsnewatom
+news
+kimapdeletedmsgatom
+nsnewatom
+imapdeleted
+kattachmsgatom
+nsnewatom
+attach
+khasunreadatom
+nsnewatom
+hasunread
+kwatchthreadatom
+nsnewatom
+watch
+kignorethreadatom
+nsnewatom
+ignore
+khasimageatom
+nsnewatom
+hasimage
+kjunkmsgatom
+nsnewatom
+junk
+knotjunkmsgatom
+nsnewatom
+notjunk
+ifdef
+supportprioritycolors
+khighestpriorityatom
+nsnewatom
+priority
+highest
+khighpriorityatom
+nsnewatom
+priority
+high
+klowestpriorityatom
+nsnewatom
+priority
+lowest
+klowpriorityatom
+nsnewatom
+priority
+low
+endif
+khighestprioritystring
+getstring
+nsliteralstring
+priorityhighest
+get
+khighprioritystring
+getstring
+nsliteralstring
+priorityhigh
+get
+klowestprioritystring
+getstring
+nsliteralstring
+prioritylowest
+get
+klowprioritystring
+getstring
+nsliteralstring
+prioritylow
+get
+knormalprioritystring
+getstring
+nsliteralstring
+prioritynormal
+get
+klabelcolorwhiteatom
+nsnewatom
+lc
+white
+klabelcolorblackatom
+nsnewatom
+lc
+black
+kreadstring
+getstring
+nsliteralstring
+read
+get
+krepliedstring
+getstring
+nsliteralstring
+replied
+get
+kforwardedstring
+getstring
+nsliteralstring
+forwarded
+get
+knewstring
+getstring
+nsliteralstring
+get
+nsmsgdbview
+nsmsgdbview
+mdb
+mdb
+removelistener
+ginstancecount
+ginstancecount
+nsifrelease
+kunreadmsgatom
+nsifrelease
+knewmsgatom
+nsifrelease
+kreadmsgatom
+nsifrelease
+kofflinemsgatom
+nsifrelease
+kflaggedmsgatom
+nsifrelease
+knewsmsgatom
+nsifrelease
+kimapdeletedmsgatom
+nsifrelease
+kattachmsgatom
+nsifrelease
+khasunreadatom
+nsifrelease
+kwatchthreadatom
+nsifrelease
+kignorethreadatom
+nsifrelease
+khasimageatom
+nsifrelease
+kjunkmsgatom
+nsifrelease
+knotjunkmsgatom
+ifdef
+supportprioritycolors
+nsifrelease
+khighestpriorityatom
+nsifrelease
+khighpriorityatom
+nsifrelease
+klowestpriorityatom
+nsifrelease
+klowpriorityatom
+endif
+print
+preflabelsmax
+nsifrelease
+mlabelprefcoloratoms
+nsifrelease
+klabelcolorwhiteatom
+nsifrelease
+klabelcolorblackatom
+nscrt
+free
+khighestprioritystring
+nscrt
+free
+khighprioritystring
+nscrt
+free
+klowestprioritystring
+nscrt
+free
+klowprioritystring
+nscrt
+free
+knormalprioritystring
+nscrt
+free
+kreadstring
+nscrt
+free
+krepliedstring
+nscrt
+free
+kforwardedstring
+nscrt
+free
+knewstring
+nsresult
+nsmsgdbview
+initlabelprefs
+nsresult
+rv
+nsok
+nscstring
+prefstring
+print
+preflabelsmax
+prefstring
+assign
+preflabelsdescription
+prefstring
+appendint
+rv
+getpreflocalizedstring
+prefstring
+get
+mlabelprefdescriptions
+nsensuresuccess
+rv
+rv
+prefstring
+assign
+preflabelscolor
+prefstring
+appendint
+rv
+getlabelprefstringandatom
+prefstring
+get
+mlabelprefcolors
+mlabelprefcoloratoms
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsmsgdbview
+addlabelprefobservers
+nsresult
+rv
+nsok
+nscstring
+prefstring
+nscomptr
+nsiprefservice
+prefs
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+rv
+prefs
+getbranch
+nsnull
+getteraddrefs
+prefbranch
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefbranchinternal
+pbi
+doqueryinterface
+prefbranch
+rv
+nsensuresuccess
+rv
+rv
+initlabelprefs
+print
+preflabelsmax
+prefstring
+assign
+preflabelsdescription
+prefstring
+appendint
+rv
+pbi
+addobserver
+prefstring
+get
+prfalse
+nsensuresuccess
+rv
+rv
+prefstring
+assign
+preflabelscolor
+prefstring
+appendint
+rv
+pbi
+addobserver
+prefstring
+get
+prfalse
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsmsgdbview
+removelabelprefobservers
+nsresult
+rv
+nsok
+nscstring
+prefstring
+nscomptr
+nsiprefservice
+prefs
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+rv
+prefs
+getbranch
+nsnull
+getteraddrefs
+prefbranch
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefbranchinternal
+pbi
+doqueryinterface
+prefbranch
+rv
+nsensuresuccess
+rv
+rv
+print
+preflabelsmax
+prefstring
+assign
+preflabelsdescription
+prefstring
+appendint
+rv
+pbi
+removeobserver
+prefstring
+get
+nsensuresuccess
+rv
+rv
+prefstring
+assign
+preflabelscolor
+prefstring
+appendint
+rv
+pbi
+removeobserver
+prefstring
+get
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsmsgdbview
+observe
+nsisupports
+asubject
+atopic
+prunichar
+somedata
+nsresult
+rv
+nsok
+prbool
+matchfound
+prfalse
+strcmp
+atopic
+nsprefbranchprefchangetopicid
+nscstring
+prefname
+nscstring
+indexstr
+pruint
+prefnamelength
+print
+indexint
+print
+irv
+prefname
+assignwithconversion
+somedata
+prefnamelength
+prefname
+length
+indexstr
+assign
+prefname
+get
+prefnamelength
+indexint
+indexstr
+tointeger
+irv
+nsassertion
+irv
+tointeger
+failed
+irv
+nserrorfailure
+prefname
+find
+preflabelsdescription
+prtrue
+knotfound
+rv
+getpreflocalizedstring
+prefname
+get
+mlabelprefdescriptions
+indexint
+matchfound
+prtrue
+prefname
+find
+preflabelscolor
+prtrue
+knotfound
+rv
+getlabelprefstringandatom
+prefname
+get
+mlabelprefcolors
+indexint
+mlabelprefcoloratoms
+indexint
+matchfound
+prtrue
+matchfound
+nsensuresuccess
+rv
+rv
+nsassertion
+mtree
+no
+tree
+see
+bug
+mtree
+mtree
+invalidate
+nsok
+prunichar
+nsmsgdbview
+getstring
+prunichar
+astringname
+nsresult
+res
+nsok
+prunichar
+ptrv
+nsnull
+mmessengerstringbundle
+propertyurl
+messengerstringurl
+nscomptr
+nsistringbundleservice
+sbundleservice
+dogetservice
+nsstringbundlecontractid
+res
+nssucceeded
+res
+sbundleservice
+res
+sbundleservice
+createbundle
+propertyurl
+getteraddrefs
+mmessengerstringbundle
+mmessengerstringbundle
+res
+mmessengerstringbundle
+getstringfromname
+astringname
+ptrv
+nssucceeded
+res
+ptrv
+ptrv
+nscrt
+strdup
+astringname
+nsresult
+nsmsgdbview
+getpreflocalizedstring
+aprefname
+nsstring
+aresult
+nsresult
+rv
+nsok
+nscomptr
+nsiprefservice
+prefservice
+nscomptr
+nsiprefbranch
+prefbranch
+nscomptr
+nsipreflocalizedstring
+pls
+nsxpidlstring
+ucsval
+prefservice
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+prefservice
+getbranch
+nsnull
+getteraddrefs
+prefbranch
+nsensuresuccess
+rv
+rv
+rv
+prefbranch
+getcomplexvalue
+aprefname
+nsgetiid
+nsipreflocalizedstring
+getteraddrefs
+pls
+nsensuresuccess
+rv
+rv
+pls
+tostring
+gettercopies
+ucsval
+aresult
+ucsval
+get
+rv
+nsresult
+nsmsgdbview
+getlabelprefstringandatom
+aprefname
+nsstring
+acolor
+nsiatom
+acoloratom
+nsresult
+rv
+nsok
+nscomptr
+nsiprefservice
+prefservice
+nscomptr
+nsiprefbranch
+prefbranch
+nsxpidlcstring
+csval
+nscautostring
+prefcolortree
+labelcolorstring
+prefservice
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+prefservice
+getbranch
+nsnull
+getteraddrefs
+prefbranch
+nsensuresuccess
+rv
+rv
+rv
+prefbranch
+getcharpref
+aprefname
+gettercopies
+csval
+nsensuresuccess
+rv
+rv
+acolor
+assignwithconversion
+csval
+nsifrelease
+acoloratom
+prefcolortree
+appendwithconversion
+acolor
+get
+acoloratom
+nsnewatom
+prefcolortree
+get
+nsensuretrue
+acoloratom
+nserrorfailure
+rv
+nsresult
+nsmsgdbview
+appendlabelproperties
+nsmsglabelvalue
+label
+nsisupportsarray
+aproperties
+nsensureargpointer
+aproperties
+mlabelprefcolors
+label
+isempty
+nsensuretrue
+mlabelprefcoloratoms
+label
+nserrorfailure
+aproperties
+appendelement
+mlabelprefcoloratoms
+label
+nsok
+nsresult
+nsmsgdbview
+appendselectedtextcolorproperties
+nsmsglabelvalue
+label
+nsisupportsarray
+aproperties
+nsensureargpointer
+aproperties
+mlabelprefcolors
+label
+equals
+nsliteralstring
+labelcolorwhitestring
+aproperties
+appendelement
+klabelcolorblackatom
+aproperties
+appendelement
+klabelcolorwhiteatom
+nsok
+nsresult
+nsmsgdbview
+fetchauthor
+nsimsghdr
+ahdr
+prunichar
+asenderstring
+nsxpidlstring
+unparsedauthor
+mheaderparser
+mheaderparser
+dogetservice
+nsmailnewsmimeheaderparsercontractid
+nsresult
+rv
+nsok
+mtreatrecipientasauthor
+rv
+ahdr
+getmimedecodedrecipients
+gettercopies
+unparsedauthor
+rv
+ahdr
+getmimedecodedauthor
+gettercopies
+unparsedauthor
+mheaderparser
+nsxpidlcstring
+name
+rv
+mheaderparser
+extractheaderaddressname
+utf
+nsconvertucstoutf
+unparsedauthor
+get
+gettercopies
+name
+nssucceeded
+rv
+name
+asenderstring
+nscrt
+strdup
+nsconvertutftoucs
+name
+get
+nsok
+asenderstring
+nscrt
+strdup
+unparsedauthor
+nsok
+nsresult
+nsmsgdbview
+fetchsubject
+nsimsghdr
+amsghdr
+pruint
+aflags
+prunichar
+avalue
+aflags
+msgflaghasre
+nsxpidlstring
+subject
+amsghdr
+getmimedecodedsubject
+gettercopies
+subject
+nsautostring
+resubject
+resubject
+assign
+nsliteralstring
+re
+resubject
+append
+subject
+avalue
+tonewunicode
+resubject
+amsghdr
+getmimedecodedsubject
+avalue
+nsok
+nsresult
+nsmsgdbview
+fetchdate
+nsimsghdr
+ahdr
+prunichar
+adatestring
+prtime
+dateofmsg
+nsautostring
+formatteddatestring
+mdateformater
+mdateformater
+docreateinstance
+kdatetimeformatcid
+nsensuretrue
+mdateformater
+nserrorfailure
+nsresult
+rv
+ahdr
+getdate
+dateofmsg
+prtime
+currenttime
+prnow
+prexplodedtime
+explodedcurrenttime
+prexplodetime
+currenttime
+prlocaltimeparameters
+explodedcurrenttime
+prexplodedtime
+explodedmsgtime
+prexplodetime
+dateofmsg
+prlocaltimeparameters
+explodedmsgtime
+nsdateformatselector
+dateformat
+mdateformatdefault
+explodedcurrenttime
+tmyear
+explodedmsgtime
+tmyear
+explodedcurrenttime
+tmmonth
+explodedmsgtime
+tmmonth
+explodedcurrenttime
+tmmday
+explodedmsgtime
+tmmday
+dateformat
+mdateformattoday
+llcmp
+currenttime
+dateofmsg
+print
+microsecondspersecond
+print
+secondsperday
+print
+microsecondsperday
+print
+microsecondsperdays
+prbool
+bgotconstants
+prfalse
+bgotconstants
+llil
+microsecondspersecond
+prusecpersec
+lluil
+secondsperday
+llmul
+microsecondsperday
+secondsperday
+microsecondspersecond
+llmul
+microsecondsperdays
+microsecondsperday
+bgotconstants
+prtrue
+print
+todaysmicroseconds
+mostrecentmidnight
+llmod
+todaysmicroseconds
+currenttime
+microsecondsperday
+llsub
+mostrecentmidnight
+currenttime
+todaysmicroseconds
+print
+mostrecentweek
+llsub
+mostrecentweek
+mostrecentmidnight
+microsecondsperdays
+llcmp
+dateofmsg
+mostrecentweek
+dateformat
+mdateformatthisweek
+nssucceeded
+rv
+rv
+mdateformater
+formatprtime
+nsnull
+dateformat
+ktimeformatnoseconds
+dateofmsg
+formatteddatestring
+nssucceeded
+rv
+adatestring
+tonewunicode
+formatteddatestring
+rv
+nsresult
+nsmsgdbview
+fetchstatus
+pruint
+aflags
+prunichar
+astatusstring
+prunichar
+statusstring
+nsnull
+aflags
+msgflagreplied
+statusstring
+krepliedstring
+aflags
+msgflagforwarded
+statusstring
+kforwardedstring
+aflags
+msgflagnew
+statusstring
+knewstring
+aflags
+msgflagread
+statusstring
+kreadstring
+statusstring
+astatusstring
+nscrt
+strdup
+statusstring
+astatusstring
+nsnull
+nsok
+nsresult
+nsmsgdbview
+fetchsize
+nsimsghdr
+ahdr
+prunichar
+asizestring
+nsautostring
+formattedsizestring
+pruint
+msgsize
+misnews
+ahdr
+getlinecount
+msgsize
+formattedsizestring
+appendint
+msgsize
+ahdr
+getmessagesize
+msgsize
+msgsize
+msgsize
+pruint
+sizeinkb
+msgsize
+formattedsizestring
+appendint
+sizeinkb
+formattedsizestring
+append
+nsliteralstring
+kb
+asizestring
+tonewunicode
+formattedsizestring
+nsok
+nsresult
+nsmsgdbview
+fetchpriority
+nsimsghdr
+ahdr
+prunichar
+aprioritystring
+nsmsgpriorityvalue
+priority
+nsmsgpriority
+notset
+prunichar
+prioritystring
+nsnull
+ahdr
+getpriority
+priority
+priority
+nsmsgpriority
+highest
+prioritystring
+khighestprioritystring
+nsmsgpriority
+high
+prioritystring
+khighprioritystring
+nsmsgpriority
+low
+prioritystring
+klowprioritystring
+nsmsgpriority
+lowest
+prioritystring
+klowestprioritystring
+nsmsgpriority
+normal
+prioritystring
+knormalprioritystring
+prioritystring
+aprioritystring
+nscrt
+strdup
+prioritystring
+aprioritystring
+nsnull
+nsok
+nsresult
+nsmsgdbview
+fetchlabel
+nsimsghdr
+ahdr
+prunichar
+alabelstring
+nsresult
+rv
+nsok
+nsmsglabelvalue
+label
+nsensureargpointer
+ahdr
+nsensureargpointer
+alabelstring
+rv
+ahdr
+getlabel
+label
+nsensuresuccess
+rv
+rv
+label
+label
+preflabelsmax
+alabelstring
+nsnull
+nsok
+mlabelprefdescriptions
+label
+isempty
+alabelstring
+nscrt
+strdup
+mlabelprefdescriptions
+label
+get
+alabelstring
+nserroroutofmemory
+nsok
+nsresult
+nsmsgdbview
+saveandclearselection
+nsmsgkeyarray
+amsgkeyarray
+msaverestoreselectiondepth
+msaverestoreselectiondepth
+nsok
+mtreeselection
+nsok
+mtreeselection
+setselecteventssuppressed
+prtrue
+nsuintarray
+selection
+getselectedindices
+selection
+print
+numindices
+selection
+getsize
+nsmsgkey
+msgkey
+print
+index
+index
+numindices
+index
+msgkey
+mkeys
+getat
+selection
+getat
+index
+amsgkeyarray
+add
+msgkey
+mtreeselection
+mtreeselection
+clearselection
+nsok
+nsresult
+nsmsgdbview
+restoreselection
+nsmsgkeyarray
+amsgkeyarray
+msaverestoreselectiondepth
+msaverestoreselectiondepth
+nsok
+mtreeselection
+nsok
+print
+arraysize
+amsgkeyarray
+getsize
+nsmsgviewindex
+currentviewposition
+nsmsgviewindexnone
+nsmsgviewindex
+newviewposition
+nsmsgviewindexnone
+mviewflags
+nsmsgviewflagstype
+kthreadeddisplay
+print
+index
+index
+arraysize
+index
+findkey
+amsgkeyarray
+getat
+index
+prtrue
+mcurrentlydisplayedmsgkey
+nsmsgkeynone
+currentviewposition
+findkey
+mcurrentlydisplayedmsgkey
+prfalse
+currentviewposition
+nsmsgviewindexnone
+mtreeselection
+setcurrentindex
+currentviewposition
+mtreeselection
+rangedselect
+currentviewposition
+currentviewposition
+prtrue
+mtree
+mtree
+ensurerowisvisible
+currentviewposition
+print
+index
+index
+arraysize
+index
+newviewposition
+findkey
+amsgkeyarray
+getat
+index
+prfalse
+newviewposition
+currentviewposition
+mtreeselection
+rangedselect
+newviewposition
+newviewposition
+prtrue
+mtreeselection
+setselecteventssuppressed
+prfalse
+nsok
+nsresult
+nsmsgdbview
+generateuriformsgkey
+nsmsgkey
+amsgkey
+nsimsgfolder
+folder
+auri
+nsensurearg
+folder
+folder
+generatemessageuri
+amsgkey
+auri
+nsresult
+nsmsgdbview
+cyclethreadedcolumn
+nsidomelement
+aelement
+nsautostring
+currentview
+aelement
+getattribute
+nsliteralstring
+currentview
+currentview
+currentview
+equals
+nsliteralstring
+threaded
+aelement
+setattribute
+nsliteralstring
+currentview
+nsliteralstring
+unthreaded
+aelement
+setattribute
+nsliteralstring
+currentview
+nsliteralstring
+threaded
+nsok
+nsimethodimp
+nsmsgdbview
+iseditable
+print
+index
+prunichar
+colid
+prbool
+areturnvalue
+areturnvalue
+prfalse
+nsok
+nsimethodimp
+nsmsgdbview
+setcelltext
+print
+row
+prunichar
+colid
+prunichar
+value
+nsok
+nsimethodimp
+nsmsgdbview
+getrowcount
+print
+arowcount
+arowcount
+getsize
+nsok
+nsimethodimp
+nsmsgdbview
+getselection
+nsitreeselection
+aselection
+aselection
+mtreeselection
+nsifaddref
+aselection
+nsok
+nsimethodimp
+nsmsgdbview
+setselection
+nsitreeselection
+aselection
+mtreeselection
+aselection
+nsok
+nsimethodimp
+nsmsgdbview
+reloadmessagewithallparts
+reloadmessagehelper
+prtrue
+nsimethodimp
+nsmsgdbview
+reloadmessage
+reloadmessagehelper
+prfalse
+nsresult
+nsmsgdbview
+reloadmessagehelper
+prbool
+forceallparts
+msuppressmsgdisplay
+mcurrentlydisplayedmsgkey
+nsmsgkeynone
+nsmsgkey
+currentmsgtoreload
+mcurrentlydisplayedmsgkey
+mcurrentlydisplayedmsgkey
+nsmsgkeynone
+loadmessagebymsgkeyhelper
+currentmsgtoreload
+forceallparts
+nsok
+nsresult
+nsmsgdbview
+updatedisplaymessage
+nsmsgkey
+amsgkey
+nsresult
+rv
+mcommandupdater
+nsmsgviewindex
+viewposition
+findviewindex
+amsgkey
+viewposition
+nsmsgviewindexnone
+nscomptr
+nsimsgdbhdr
+msghdr
+rv
+getmsghdrforviewindex
+viewposition
+getteraddrefs
+msghdr
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+subject
+fetchsubject
+msghdr
+mflags
+viewposition
+gettercopies
+subject
+nsxpidlcstring
+keywords
+rv
+msghdr
+getstringproperty
+keywords
+gettercopies
+keywords
+nsensuresuccess
+rv
+rv
+mcommandupdater
+displaymessagechanged
+mfolder
+subject
+keywords
+mfolder
+rv
+mfolder
+setlastmessageloaded
+amsgkey
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsmsgdbview
+loadmessagebymsgkey
+nsmsgkey
+amsgkey
+loadmessagebymsgkeyhelper
+amsgkey
+prfalse
+nsresult
+nsmsgdbview
+loadmessagebymsgkeyhelper
+nsmsgkey
+amsgkey
+prbool
+forceallparts
+nsassertion
+amsgkey
+nsmsgkeynone
+trying
+to
+load
+nsmsgkeynone
+amsgkey
+nsmsgkeynone
+nserrorunexpected
+msuppressmsgdisplay
+mcurrentlydisplayedmsgkey
+amsgkey
+nsxpidlcstring
+uri
+nsresult
+rv
+generateuriformsgkey
+amsgkey
+mfolder
+gettercopies
+uri
+nsensuresuccess
+rv
+rv
+forceallparts
+uri
+append
+fetchcompletemessage
+mmessengerinstance
+openurl
+uri
+mcurrentlydisplayedmsgkey
+amsgkey
+updatedisplaymessage
+amsgkey
+nsok
+nsimethodimp
+nsmsgdbview
+loadmessagebyurl
+aurl
+nsassertion
+aurl
+trying
+to
+load
+url
+msuppressmsgdisplay
+mmessengerinstance
+loadurl
+aurl
+mcurrentlydisplayedmsgkey
+nsmsgkeynone
+nsok
+nsimethodimp
+nsmsgdbview
+selectionchanged
+mdeletingrows
+nsok
+pruint
+numselected
+getnumselected
+numselected
+nsuintarray
+selection
+getselectedindices
+selection
+nsmsgviewindex
+indices
+selection
+getdata
+nsassertion
+numselected
+selection
+getsize
+selected
+indices
+is
+equal
+to
+num
+of
+msg
+selected
+prbool
+commandsneeddisablingbecauseoffline
+prfalse
+weareoffline
+indices
+commandsneeddisablingbecauseoffline
+offlinemsgselected
+indices
+numselected
+numselected
+print
+startrange
+print
+endrange
+nsresult
+rv
+mtreeselection
+getrangeat
+startrange
+endrange
+nsensuresuccess
+rv
+nsok
+startrange
+startrange
+endrange
+startrange
+getsize
+nsmsgkey
+msgkey
+mkeys
+getat
+startrange
+mremovingrow
+msuppressmsgdisplay
+loadmessagebymsgkey
+msgkey
+updatedisplaymessage
+msgkey
+numselected
+mcurrentlydisplayedmsgkey
+nsmsgkeynone
+nscomptr
+nsimsgmessagepanecontroller
+controller
+mnumselectedrows
+numselected
+mmsgwindow
+nssucceeded
+mmsgwindow
+getmessagepanecontroller
+getteraddrefs
+controller
+controller
+controller
+clearmsgpane
+numselected
+mnumselectedrows
+numselected
+mnumselectedrows
+commandsneeddisablingbecauseoffline
+mcommandsneeddisablingbecauseoffline
+msuppresscommandupdating
+mcommandupdater
+mremovingrow
+getsize
+mcommandupdater
+updatecommandstatus
+mcommandsneeddisablingbecauseoffline
+commandsneeddisablingbecauseoffline
+mnumselectedrows
+numselected
+nsok
+nsresult
+nsmsgdbview
+getselectedindices
+nsuintarray
+selection
+mtreeselection
+print
+selectioncount
+nsresult
+rv
+mtreeselection
+getrangecount
+selectioncount
+print
+selectioncount
+print
+startrange
+print
+endrange
+rv
+mtreeselection
+getrangeat
+startrange
+endrange
+nsensuresuccess
+rv
+nsok
+print
+viewsize
+getsize
+startrange
+startrange
+viewsize
+print
+rangeindex
+startrange
+rangeindex
+endrange
+rangeindex
+viewsize
+rangeindex
+selection
+add
+rangeindex
+nsmsgviewindex
+viewindex
+findviewindex
+mcurrentlydisplayedmsgkey
+viewindex
+nsmsgviewindexnone
+selection
+add
+viewindex
+nsok
+nsimethodimp
+nsmsgdbview
+getrowproperties
+print
+index
+nsisupportsarray
+properties
+nsmsglabelvalue
+label
+isvalidindex
+index
+nsmsginvaliddbviewindex
+nscomptr
+nsimsgdbhdr
+msghdr
+nsresult
+rv
+nsok
+rv
+getmsghdrforviewindex
+index
+getteraddrefs
+msghdr
+nsfailed
+rv
+msghdr
+clearhdrcache
+nsmsginvaliddbviewindex
+nssucceeded
+msghdr
+getlabel
+label
+label
+label
+preflabelsmax
+rv
+appendlabelproperties
+label
+properties
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsmsgdbview
+getcolumnproperties
+prunichar
+colid
+nsidomelement
+aelement
+nsisupportsarray
+properties
+nsok
+nsimethodimp
+nsmsgdbview
+getcellproperties
+print
+arow
+prunichar
+colid
+nsisupportsarray
+properties
+colid
+nsok
+nsmsglabelvalue
+label
+isvalidindex
+arow
+nsmsginvaliddbviewindex
+nscomptr
+nsimsgdbhdr
+msghdr
+nsresult
+rv
+nsok
+rv
+getmsghdrforviewindex
+arow
+getteraddrefs
+msghdr
+nsfailed
+rv
+msghdr
+clearhdrcache
+nsmsginvaliddbviewindex
+pruint
+flags
+mflags
+getat
+arow
+flags
+msgflagread
+properties
+appendelement
+kunreadmsgatom
+properties
+appendelement
+kreadmsgatom
+flags
+msgflagnew
+properties
+appendelement
+knewmsgatom
+flags
+msgflagoffline
+properties
+appendelement
+kofflinemsgatom
+flags
+msgflagattachment
+properties
+appendelement
+kattachmsgatom
+flags
+msgflagwatched
+properties
+appendelement
+kwatchthreadatom
+flags
+msgflagignored
+properties
+appendelement
+kignorethreadatom
+mdeletemodel
+nsmsgimapdeletemodels
+imapdelete
+flags
+msgflagimapdeleted
+properties
+appendelement
+kimapdeletedmsgatom
+mredirectortypeatom
+properties
+appendelement
+mredirectortypeatom
+misnews
+properties
+appendelement
+knewsmsgatom
+nsxpidlcstring
+imagesize
+msghdr
+getstringproperty
+imagesize
+gettercopies
+imagesize
+imagesize
+isempty
+properties
+appendelement
+khasimageatom
+nsxpidlcstring
+junkscorestr
+msghdr
+getstringproperty
+junkscore
+gettercopies
+junkscorestr
+junkscorestr
+isempty
+properties
+appendelement
+atoi
+junkscorestr
+get
+kjunkmsgatom
+knotjunkmsgatom
+nsxpidlcstring
+keywordproperty
+msghdr
+getstringproperty
+keywords
+gettercopies
+keywordproperty
+keywordproperty
+isempty
+nscautostring
+keywords
+keywordproperty
+nscautostring
+nextkeyword
+print
+spaceindex
+spaceindex
+keywords
+findchar
+print
+endofkeyword
+spaceindex
+keywords
+length
+spaceindex
+keywords
+left
+nextkeyword
+endofkeyword
+nextkeyword
+insert
+kw
+nscomptr
+nsiatom
+keywordatom
+dogetatom
+nextkeyword
+get
+properties
+appendelement
+keywordatom
+spaceindex
+keywords
+cut
+endofkeyword
+spaceindex
+ifdef
+supportprioritycolors
+nsmsgpriorityvalue
+priority
+msghdr
+getpriority
+priority
+priority
+nsmsgpriority
+highest
+properties
+appendelement
+khighestpriorityatom
+nsmsgpriority
+high
+properties
+appendelement
+khighpriorityatom
+nsmsgpriority
+low
+properties
+appendelement
+klowpriorityatom
+nsmsgpriority
+lowest
+properties
+appendelement
+klowestpriorityatom
+endif
+nssucceeded
+msghdr
+getlabel
+label
+label
+label
+preflabelsmax
+rv
+appendlabelproperties
+label
+properties
+nsensuresuccess
+rv
+rv
+rv
+appendselectedtextcolorproperties
+label
+properties
+nsensuresuccess
+rv
+rv
+colid
+mflags
+arow
+msgflagmarked
+properties
+appendelement
+kflaggedmsgatom
+mviewflags
+nsmsgviewflagstype
+kthreadeddisplay
+mflags
+arow
+msgviewflagisthread
+nscomptr
+nsimsgthread
+thread
+rv
+getthreadcontainingindex
+arow
+getteraddrefs
+thread
+nssucceeded
+rv
+thread
+pruint
+numunreadchildren
+thread
+getnumunreadchildren
+numunreadchildren
+numunreadchildren
+properties
+appendelement
+khasunreadatom
+nsok
+nsimethodimp
+nsmsgdbview
+iscontainer
+print
+index
+prbool
+retval
+isvalidindex
+index
+nsmsginvaliddbviewindex
+mviewflags
+nsmsgviewflagstype
+kthreadeddisplay
+pruint
+flags
+mflags
+index
+retval
+flags
+msgviewflaghaschildren
+retval
+prfalse
+nsok
+nsimethodimp
+nsmsgdbview
+iscontaineropen
+print
+index
+prbool
+retval
+isvalidindex
+index
+nsmsginvaliddbviewindex
+mviewflags
+nsmsgviewflagstype
+kthreadeddisplay
+pruint
+flags
+mflags
+index
+retval
+flags
+msgviewflaghaschildren
+flags
+msgflagelided
+retval
+prfalse
+nsok
+nsimethodimp
+nsmsgdbview
+iscontainerempty
+print
+index
+prbool
+retval
+mviewflags
+nsmsgviewflagstype
+kthreadeddisplay
+pruint
+flags
+mflags
+index
+retval
+flags
+msgviewflaghaschildren
+retval
+prfalse
+nsok
+nsimethodimp
+nsmsgdbview
+isseparator
+print
+index
+prbool
+retval
+isvalidindex
+index
+nsmsginvaliddbviewindex
+retval
+prfalse
+nsok
+nsimethodimp
+nsmsgdbview
+getparentindex
+print
+rowindex
+print
+retval
+retval
+print
+rowindexlevel
+getlevel
+rowindex
+rowindexlevel
+print
+rowindex
+print
+getlevel
+rowindexlevel
+retval
+nsok
+nsimethodimp
+nsmsgdbview
+hasnextsibling
+print
+rowindex
+print
+afterindex
+prbool
+retval
+retval
+prfalse
+print
+rowindexlevel
+getlevel
+rowindex
+rowindexlevel
+print
+print
+count
+getrowcount
+count
+afterindex
+count
+print
+getlevel
+rowindexlevel
+rowindexlevel
+retval
+prtrue
+nsok
+nsimethodimp
+nsmsgdbview
+getlevel
+print
+index
+print
+retval
+isvalidindex
+index
+nsmsginvaliddbviewindex
+mviewflags
+nsmsgviewflagstype
+kthreadeddisplay
+retval
+mlevels
+index
+retval
+nsok
+nsresult
+nsmsgdbview
+getmsghdrforviewindex
+nsmsgviewindex
+index
+nsimsgdbhdr
+msghdr
+nsresult
+rv
+nsok
+nsmsgkey
+key
+mkeys
+getat
+index
+key
+nsmsgkeynone
+mdb
+nsmsginvaliddbviewindex
+key
+mcachedmsgkey
+msghdr
+mcachedhdr
+nsifaddref
+msghdr
+rv
+mdb
+getmsghdrforkey
+key
+msghdr
+nssucceeded
+rv
+mcachedhdr
+msghdr
+mcachedmsgkey
+key
+rv
+nsresult
+nsmsgdbview
+getfolderforviewindex
+nsmsgviewindex
+index
+nsimsgfolder
+afolder
+nsifaddref
+afolder
+mfolder
+nsok
+nsresult
+nsmsgdbview
+getdbforviewindex
+nsmsgviewindex
+index
+nsimsgdatabase
+db
+nsifaddref
+db
+mdb
+nsok
+nsimethodimp
+nsmsgdbview
+getimagesrc
+print
+arow
+prunichar
+acolid
+nsastring
+avalue
+nsok
+nsimethodimp
+nsmsgdbview
+getprogressmode
+print
+arow
+prunichar
+acolid
+print
+retval
+nsok
+nsimethodimp
+nsmsgdbview
+getcellvalue
+print
+arow
+prunichar
+acolid
+nsastring
+avalue
+nsok
+nsimethodimp
+nsmsgdbview
+getcelltext
+print
+arow
+prunichar
+acolid
+nsastring
+avalue
+acolid
+nsok
+nsresult
+rv
+nsok
+isvalidindex
+arow
+nsmsginvaliddbviewindex
+nscomptr
+nsimsgdbhdr
+msghdr
+rv
+getmsghdrforviewindex
+arow
+getteraddrefs
+msghdr
+nsfailed
+rv
+msghdr
+clearhdrcache
+nsmsginvaliddbviewindex
+avalue
+setcapacity
+nsxpidlstring
+valuetext
+nscomptr
+nsimsgthread
+thread
+acolid
+acolid
+rv
+fetchsubject
+msghdr
+mflags
+arow
+gettercopies
+valuetext
+acolid
+rv
+fetchauthor
+msghdr
+gettercopies
+valuetext
+acolid
+rv
+fetchsize
+msghdr
+gettercopies
+valuetext
+acolid
+rv
+fetchstatus
+mflags
+arow
+gettercopies
+valuetext
+avalue
+assign
+valuetext
+rv
+fetchdate
+msghdr
+gettercopies
+valuetext
+avalue
+assign
+valuetext
+rv
+fetchpriority
+msghdr
+gettercopies
+valuetext
+avalue
+assign
+valuetext
+rv
+fetchlabel
+msghdr
+gettercopies
+valuetext
+avalue
+assign
+valuetext
+acolid
+mviewflags
+nsmsgviewflagstype
+kthreadeddisplay
+mflags
+arow
+msgviewflagisthread
+rv
+getthreadcontainingindex
+arow
+getteraddrefs
+thread
+nssucceeded
+rv
+thread
+nsautostring
+formattedcountstring
+pruint
+numchildren
+thread
+getnumchildren
+numchildren
+formattedcountstring
+appendint
+numchildren
+avalue
+assign
+formattedcountstring
+acolid
+mviewflags
+nsmsgviewflagstype
+kthreadeddisplay
+mflags
+arow
+msgviewflagisthread
+rv
+getthreadcontainingindex
+arow
+getteraddrefs
+thread
+nssucceeded
+rv
+thread
+nsautostring
+formattedcountstring
+pruint
+numunreadchildren
+thread
+getnumunreadchildren
+numunreadchildren
+numunreadchildren
+formattedcountstring
+appendint
+numunreadchildren
+avalue
+assign
+formattedcountstring
+nsxpidlcstring
+junkscorestr
+msghdr
+getstringproperty
+junkscore
+gettercopies
+junkscorestr
+copyasciitoucs
+junkscorestr
+avalue
+nsautostring
+keystring
+nsmsgkey
+key
+msghdr
+getmessagekey
+key
+keystring
+appendint
+key
+avalue
+assign
+keystring
+nsok
+nsimethodimp
+nsmsgdbview
+settree
+nsitreeboxobject
+tree
+mtree
+tree
+nsok
+nsimethodimp
+nsmsgdbview
+toggleopenstate
+print
+index
+pruint
+numchanged
+nsresult
+rv
+toggleexpansion
+index
+numchanged
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsmsgdbview
+cycleheader
+prunichar
+acolid
+nsidomelement
+aelement
+nsok
+nsimethodimp
+nsmsgdbview
+cyclecell
+print
+row
+prunichar
+colid
+colid
+nsok
+isvalidindex
+row
+nsmsginvaliddbviewindex
+colid
+colid
+applycommandtoindices
+nsmsgviewcommandtype
+togglemessageread
+nsmsgviewindex
+row
+colid
+expandandselectthreadbyindex
+row
+mflags
+row
+msgflagmarked
+applycommandtoindices
+nsmsgviewcommandtype
+unflagmessages
+nsmsgviewindex
+row
+applycommandtoindices
+nsmsgviewcommandtype
+flagmessages
+nsmsgviewindex
+row
+misnews
+nsok
+nscomptr
+nsimsgdbhdr
+msghdr
+nsresult
+rv
+getmsghdrforviewindex
+row
+getteraddrefs
+msghdr
+nssucceeded
+rv
+msghdr
+nsxpidlcstring
+junkscorestr
+rv
+msghdr
+getstringproperty
+junkscore
+gettercopies
+junkscorestr
+junkscorestr
+isempty
+atoi
+junkscorestr
+get
+applycommandtoindices
+nsmsgviewcommandtype
+junk
+nsmsgviewindex
+row
+applycommandtoindices
+nsmsgviewcommandtype
+unjunk
+nsmsgviewindex
+row
+nscomptr
+nsimsgdbhdr
+msghdr
+nsresult
+rv
+getmsghdrforviewindex
+row
+getteraddrefs
+msghdr
+nssucceeded
+rv
+msghdr
+nsmsglabelvalue
+label
+nssucceeded
+msghdr
+getlabel
+label
+label
+nsmsgviewcommandtype
+lastlabel
+nsmsgviewcommandtype
+label
+msghdr
+setlabel
+label
+msghdr
+setlabel
+nsok
+nsimethodimp
+nsmsgdbview
+performaction
+prunichar
+action
+nsok
+nsimethodimp
+nsmsgdbview
+performactiononrow
+prunichar
+action
+print
+row
+nsok
+nsimethodimp
+nsmsgdbview
+performactiononcell
+prunichar
+action
+print
+row
+prunichar
+colid
+nsok
+nsimethodimp
+nsmsgdbview
+open
+nsimsgfolder
+folder
+nsmsgviewsorttypevalue
+sorttype
+nsmsgviewsortordervalue
+sortorder
+nsmsgviewflagstypevalue
+viewflags
+prbool
+atreatrecipientasauthor
+print
+pcount
+mviewflags
+viewflags
+msortorder
+sortorder
+msorttype
+sorttype
+mtreatrecipientasauthor
+atreatrecipientasauthor
+nsmsgviewtypevalue
+viewtype
+folder
+nscomptr
+nsidbfolderinfo
+folderinfo
+nsresult
+rv
+folder
+getdbfolderinfoanddb
+getteraddrefs
+folderinfo
+getteraddrefs
+mdb
+nsensuresuccess
+rv
+rv
+mdb
+addlistener
+mfolder
+folder
+folderinfo
+setsorttype
+sorttype
+folderinfo
+setsortorder
+sortorder
+folderinfo
+setviewflags
+viewflags
+getviewtype
+viewtype
+folderinfo
+setviewtype
+viewtype
+nscomptr
+nsimsgincomingserver
+server
+rv
+folder
+getserver
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+type
+rv
+server
+gettype
+gettercopies
+type
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+redirectortype
+rv
+server
+getredirectortype
+gettercopies
+redirectortype
+nsensuresuccess
+rv
+rv
+redirectortype
+isempty
+mredirectortypeatom
+nsnull
+mredirectortypeatom
+getteraddrefs
+nsnewatom
+redirectortype
+get
+misnews
+strcmp
+nntp
+type
+get
+getimapdeletemodel
+nsnull
+nsok
+nsimethodimp
+nsmsgdbview
+close
+removelabelprefobservers
+print
+oldsize
+getsize
+mkeys
+removeall
+mflags
+removeall
+mlevels
+removeall
+mtree
+mtree
+rowcountchanged
+oldsize
+clearhdrcache
+mdb
+mdb
+removelistener
+mdb
+nsnull
+nsok
+nsimethodimp
+nsmsgdbview
+init
+nsimessenger
+amessengerinstance
+nsimsgwindow
+amsgwindow
+nsimsgdbviewcommandupdater
+acmdupdater
+mmsgwindow
+amsgwindow
+mmessengerinstance
+amessengerinstance
+mcommandupdater
+acmdupdater
+nsok
+nsimethodimp
+nsmsgdbview
+setsuppresscommandupdating
+prbool
+asuppresscommandupdating
+msuppresscommandupdating
+asuppresscommandupdating
+nsok
+nsimethodimp
+nsmsgdbview
+getsuppresscommandupdating
+prbool
+asuppresscommandupdating
+asuppresscommandupdating
+msuppresscommandupdating
+nsok
+nsimethodimp
+nsmsgdbview
+setsuppressmsgdisplay
+prbool
+asuppressdisplay
+prbool
+forcedisplay
+prfalse
+msuppressmsgdisplay
+msuppressmsgdisplay
+asuppressdisplay
+forcedisplay
+prtrue
+msuppressmsgdisplay
+asuppressdisplay
+forcedisplay
+nsmsgkey
+msgkey
+nscomptr
+nsimsgdbhdr
+dbhdr
+gethdrforfirstselectedmessage
+getteraddrefs
+dbhdr
+dbhdr
+nsresult
+rv
+dbhdr
+getmessagekey
+msgkey
+nssucceeded
+rv
+loadmessagebymsgkey
+msgkey
+nsok
+nsimethodimp
+nsmsgdbview
+getsuppressmsgdisplay
+prbool
+asuppressdisplay
+asuppressdisplay
+msuppressmsgdisplay
+nsok
+nsresult
+nsmsgdbview
+addkeys
+nsmsgkey
+pkeys
+print
+pflags
+plevels
+nsmsgviewsorttypevalue
+sorttype
+print
+numkeystoadd
+nserrornotimplemented
+prcallback
+compareviewindices
+nsmsgviewindex
+nsmsgviewindex
+nsmsgviewindex
+nsmsgviewindex
+nsimethodimp
+nsmsgdbview
+getindicesforselection
+nsmsgviewindex
+indices
+pruint
+length
+nsensureargpointer
+length
+length
+nsensureargpointer
+indices
+indices
+nsnull
+nsuintarray
+selection
+getselectedindices
+selection
+length
+selection
+getsize
+pruint
+numindicies
+length
+numindicies
+nsok
+indices
+nsmsgviewindex
+nsmemory
+alloc
+numindicies
+nsmsgviewindex
+indices
+nserroroutofmemory
+pruint
+numindicies
+indices
+selection
+getat
+nsok
+nsimethodimp
+nsmsgdbview
+geturisforselection
+uris
+pruint
+length
+nsresult
+rv
+nsok
+ifdef
+debugmscott
+printf
+inside
+geturisforselection
+endif
+nsensureargpointer
+length
+length
+nsensureargpointer
+uris
+uris
+nsnull
+nsuintarray
+selection
+getselectedindices
+selection
+length
+selection
+getsize
+pruint
+numindicies
+length
+numindicies
+nsok
+nscomptr
+nsimsgfolder
+folder
+mfolder
+outarray
+next
+next
+outarray
+nsmemory
+alloc
+numindicies
+outarray
+nserroroutofmemory
+pruint
+numindicies
+nsmsgviewindex
+selectedindex
+selection
+getat
+mfolder
+getfolderforviewindex
+selectedindex
+getteraddrefs
+folder
+rv
+generateuriformsgkey
+mkeys
+selectedindex
+folder
+next
+nsensuresuccess
+rv
+rv
+next
+nserroroutofmemory
+next
+uris
+outarray
+nsok
+nsimethodimp
+nsmsgdbview
+geturiforviewindex
+nsmsgviewindex
+index
+result
+nsresult
+rv
+nscomptr
+nsimsgfolder
+folder
+mfolder
+folder
+rv
+getfolderforviewindex
+index
+getteraddrefs
+folder
+nsensuresuccess
+rv
+rv
+rv
+generateuriformsgkey
+mkeys
+index
+folder
+result
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsmsgdbview
+docommandwithfolder
+nsmsgviewcommandtypevalue
+command
+nsimsgfolder
+destfolder
+nsuintarray
+selection
+nsensureargpointer
+destfolder
+getselectedindices
+selection
+nsmsgviewindex
+indices
+selection
+getdata
+print
+numindices
+selection
+getsize
+nsresult
+rv
+nsok
+command
+nsmsgviewcommandtype
+copymessages
+nsmsgviewcommandtype
+movemessages
+numindices
+nsquicksort
+indices
+numindices
+nsmsgviewindex
+compareviewindices
+nsnull
+notestartchange
+nsmsgviewnotificationcode
+none
+rv
+applycommandtoindiceswithfolder
+command
+indices
+numindices
+destfolder
+noteendchange
+nsmsgviewnotificationcode
+none
+nsassertion
+prfalse
+invalid
+command
+type
+rv
+nserrorunexpected
+rv
+nsimethodimp
+nsmsgdbview
+docommand
+nsmsgviewcommandtypevalue
+command
+nsuintarray
+selection
+getselectedindices
+selection
+nsmsgviewindex
+indices
+selection
+getdata
+print
+numindices
+selection
+getsize
+nsresult
+rv
+nsok
+command
+nsmsgviewcommandtype
+downloadselectedforoffline
+downloadforoffline
+mmsgwindow
+indices
+numindices
+nsmsgviewcommandtype
+downloadflaggedforoffline
+downloadflaggedforoffline
+mmsgwindow
+nsmsgviewcommandtype
+markmessagesread
+nsmsgviewcommandtype
+markmessagesunread
+nsmsgviewcommandtype
+togglemessageread
+nsmsgviewcommandtype
+flagmessages
+nsmsgviewcommandtype
+unflagmessages
+nsmsgviewcommandtype
+deletemsg
+nsmsgviewcommandtype
+undeletemsg
+nsmsgviewcommandtype
+deletenotrash
+nsmsgviewcommandtype
+markthreadread
+nsmsgviewcommandtype
+label
+nsmsgviewcommandtype
+label
+nsmsgviewcommandtype
+label
+nsmsgviewcommandtype
+label
+nsmsgviewcommandtype
+label
+nsmsgviewcommandtype
+label
+nsmsgviewcommandtype
+junk
+nsmsgviewcommandtype
+unjunk
+numindices
+nsquicksort
+indices
+numindices
+nsmsgviewindex
+compareviewindices
+nsnull
+notestartchange
+nsmsgviewnotificationcode
+none
+rv
+applycommandtoindices
+command
+indices
+numindices
+noteendchange
+nsmsgviewnotificationcode
+none
+nsmsgviewcommandtype
+selectall
+mtreeselection
+mtree
+msorttype
+nsmsgviewsorttype
+bythread
+rv
+expandall
+mtreeselection
+selectall
+mtree
+invalidate
+nsmsgviewcommandtype
+selectthread
+rv
+expandandselectthread
+nsmsgviewcommandtype
+selectflagged
+ifdef
+debugseth
+printf
+clear
+current
+selection
+then
+select
+all
+flagged
+messages
+we
+may
+have
+to
+expand
+all
+first
+to
+look
+them
+endif
+nsmsgviewcommandtype
+markallread
+mfolder
+rv
+mfolder
+markallmessagesread
+nsmsgviewcommandtype
+togglethreadwatched
+rv
+togglewatched
+indices
+numindices
+nsmsgviewcommandtype
+expandall
+rv
+expandall
+nsassertion
+mtree
+no
+tree
+see
+bug
+mtree
+mtree
+invalidate
+nsmsgviewcommandtype
+collapseall
+rv
+collapseall
+nsassertion
+mtree
+no
+tree
+see
+bug
+mtree
+mtree
+invalidate
+nsassertion
+prfalse
+invalid
+command
+type
+rv
+nserrorunexpected
+rv
+prbool
+nsmsgdbview
+serversupportsfilterafterthefact
+nsassertion
+mfolder
+no
+folder
+mfolder
+prfalse
+misnews
+prfalse
+nscomptr
+nsimsgincomingserver
+server
+nsresult
+rv
+mfolder
+getserver
+getteraddrefs
+server
+nsfailed
+rv
+prfalse
+prbool
+cansearch
+rv
+server
+getcansearchmessages
+cansearch
+nsfailed
+rv
+prfalse
+cansearch
+nsimethodimp
+nsmsgdbview
+getcommandstatus
+nsmsgviewcommandtypevalue
+command
+prbool
+selectablep
+nsmsgviewcommandcheckstatevalue
+selectedp
+nsresult
+rv
+nsok
+prbool
+haveselection
+print
+rangecount
+mtreeselection
+nssucceeded
+mtreeselection
+getrangecount
+rangecount
+rangecount
+haveselection
+prtrue
+haveselection
+prfalse
+command
+nsmsgviewcommandtype
+deletemsg
+nsmsgviewcommandtype
+deletenotrash
+prbool
+candelete
+mfolder
+misnews
+nssucceeded
+mfolder
+getcandeletemessages
+candelete
+candelete
+selectablep
+prfalse
+selectablep
+haveselection
+nsmsgviewcommandtype
+applyfilters
+selectablep
+getsize
+selectablep
+selectablep
+serversupportsfilterafterthefact
+nsmsgviewcommandtype
+runjunkcontrols
+selectablep
+getsize
+misnews
+nsmsgviewcommandtype
+deletejunk
+prbool
+candelete
+selectablep
+getsize
+mfolder
+nssucceeded
+mfolder
+getcandeletemessages
+candelete
+candelete
+nsmsgviewcommandtype
+markmessagesread
+nsmsgviewcommandtype
+markmessagesunread
+nsmsgviewcommandtype
+togglemessageread
+nsmsgviewcommandtype
+flagmessages
+nsmsgviewcommandtype
+unflagmessages
+nsmsgviewcommandtype
+togglethreadwatched
+nsmsgviewcommandtype
+markthreadread
+nsmsgviewcommandtype
+downloadselectedforoffline
+nsmsgviewcommandtype
+label
+nsmsgviewcommandtype
+label
+nsmsgviewcommandtype
+label
+nsmsgviewcommandtype
+label
+nsmsgviewcommandtype
+label
+selectablep
+haveselection
+nsmsgviewcommandtype
+junk
+nsmsgviewcommandtype
+unjunk
+selectablep
+haveselection
+misnews
+nsmsgviewcommandtype
+cmdrequiringmsgbody
+nsuintarray
+selection
+getselectedindices
+selection
+print
+numindices
+selection
+getsize
+nsmsgviewindex
+indices
+selection
+getdata
+selectablep
+haveselection
+weareoffline
+offlinemsgselected
+indices
+numindices
+nsmsgviewcommandtype
+downloadflaggedforoffline
+nsmsgviewcommandtype
+markallread
+selectablep
+prtrue
+nsassertion
+prfalse
+invalid
+command
+type
+rv
+nserrorfailure
+rv
+nsresult
+nsmsgdbview
+copymessages
+nsimsgwindow
+window
+nsmsgviewindex
+indices
+print
+numindices
+prbool
+ismove
+nsimsgfolder
+destfolder
+mdeletingrows
+nsassertion
+prfalse
+last
+move
+did
+complete
+nsok
+mdeletingrows
+ismove
+mdeletemodel
+nsmsgimapdeletemodels
+imapdelete
+nsresult
+rv
+nsensureargpointer
+destfolder
+nscomptr
+nsisupportsarray
+messagearray
+nsnewisupportsarray
+getteraddrefs
+messagearray
+nsmsgviewindex
+index
+index
+nsmsgviewindex
+numindices
+index
+nsmsgkey
+key
+mkeys
+getat
+indices
+index
+nscomptr
+nsimsgdbhdr
+msghdr
+rv
+mdb
+getmsghdrforkey
+key
+getteraddrefs
+msghdr
+nssucceeded
+rv
+msghdr
+messagearray
+appendelement
+msghdr
+mdeletingrows
+mindicestonotechange
+add
+indices
+index
+nscomptr
+nsimsgcopyservice
+copyservice
+dogetservice
+nsmsgcopyservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+copyservice
+copymessages
+mfolder
+messagearray
+destfolder
+ismove
+nsnull
+window
+prtrue
+nsresult
+nsmsgdbview
+applycommandtoindiceswithfolder
+nsmsgviewcommandtypevalue
+command
+nsmsgviewindex
+indices
+print
+numindices
+nsimsgfolder
+destfolder
+nsresult
+rv
+nsok
+nsensureargpointer
+destfolder
+command
+nsmsgviewcommandtype
+copymessages
+nsassertion
+mfolder
+destfolder
+the
+source
+folder
+the
+destination
+folder
+are
+the
+same
+mfolder
+destfolder
+rv
+copymessages
+mmsgwindow
+indices
+numindices
+prfalse
+destfolder
+nsmsgviewcommandtype
+movemessages
+nsassertion
+mfolder
+destfolder
+the
+source
+folder
+the
+destination
+folder
+are
+the
+same
+mfolder
+destfolder
+rv
+copymessages
+mmsgwindow
+indices
+numindices
+prtrue
+destfolder
+nsassertion
+prfalse
+unhandled
+command
+rv
+nserrorunexpected
+rv
+nsresult
+nsmsgdbview
+applycommandtoindices
+nsmsgviewcommandtypevalue
+command
+nsmsgviewindex
+indices
+print
+numindices
+nsresult
+rv
+nsok
+nsmsgkeyarray
+imapuids
+numindices
+nsok
+nsassertion
+numindices
+nsmsgdbview
+applycommandtoindices
+numindices
+is
+negative
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+doqueryinterface
+mfolder
+prbool
+thisisimapfolder
+imapfolder
+nsnull
+command
+nsmsgviewcommandtype
+deletemsg
+rv
+deletemessages
+mmsgwindow
+indices
+numindices
+prfalse
+command
+nsmsgviewcommandtype
+deletenotrash
+rv
+deletemessages
+mmsgwindow
+indices
+numindices
+prtrue
+nscomptr
+nsijunkmailplugin
+junkplugin
+command
+nsmsgviewcommandtype
+junk
+command
+nsmsgviewcommandtype
+unjunk
+nscomptr
+nsimsgfolder
+folder
+rv
+getfolderforviewindex
+indices
+getteraddrefs
+folder
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+folder
+getserver
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgfilterplugin
+filterplugin
+rv
+server
+getspamfilterplugin
+getteraddrefs
+filterplugin
+nsensuresuccess
+rv
+rv
+junkplugin
+doqueryinterface
+filterplugin
+rv
+nsensuresuccess
+rv
+rv
+rv
+junkplugin
+startbatch
+nsensuresuccess
+rv
+rv
+moutstandingjunkbatches
+int
+numindices
+thisisimapfolder
+command
+nsmsgviewcommandtype
+markthreadread
+imapuids
+add
+getat
+indices
+command
+nsmsgviewcommandtype
+markmessagesread
+rv
+setreadbyindex
+indices
+prtrue
+nsmsgviewcommandtype
+markmessagesunread
+rv
+setreadbyindex
+indices
+prfalse
+nsmsgviewcommandtype
+togglemessageread
+rv
+togglereadbyindex
+indices
+nsmsgviewcommandtype
+flagmessages
+rv
+setflaggedbyindex
+indices
+prtrue
+nsmsgviewcommandtype
+unflagmessages
+rv
+setflaggedbyindex
+indices
+prfalse
+nsmsgviewcommandtype
+markthreadread
+rv
+setthreadofmsgreadbyindex
+indices
+imapuids
+prtrue
+nsmsgviewcommandtype
+label
+nsmsgviewcommandtype
+label
+nsmsgviewcommandtype
+label
+nsmsgviewcommandtype
+label
+nsmsgviewcommandtype
+label
+nsmsgviewcommandtype
+label
+rv
+setlabelbyindex
+indices
+command
+nsmsgviewcommandtype
+label
+nsmsgviewcommandtype
+junk
+rv
+setjunkscorebyindex
+junkplugin
+get
+indices
+nsijunkmailplugin
+junk
+numindices
+nsmsgviewcommandtype
+unjunk
+rv
+setjunkscorebyindex
+junkplugin
+get
+indices
+nsijunkmailplugin
+good
+numindices
+nsmsgviewcommandtype
+undeletemsg
+nsassertion
+prfalse
+unhandled
+command
+thisisimapfolder
+imapmessageflagstype
+flags
+knoimapmsgflag
+prbool
+commandislabelset
+prfalse
+prbool
+addflags
+prfalse
+prbool
+isread
+prfalse
+command
+nsmsgviewcommandtype
+markthreadread
+nsmsgviewcommandtype
+markmessagesread
+flags
+kimapmsgseenflag
+addflags
+prtrue
+nsmsgviewcommandtype
+markmessagesunread
+flags
+kimapmsgseenflag
+addflags
+prfalse
+nsmsgviewcommandtype
+togglemessageread
+flags
+kimapmsgseenflag
+mdb
+isread
+getat
+indices
+isread
+isread
+addflags
+prtrue
+addflags
+prfalse
+nsmsgviewcommandtype
+flagmessages
+flags
+kimapmsgflaggedflag
+addflags
+prtrue
+nsmsgviewcommandtype
+unflagmessages
+flags
+kimapmsgflaggedflag
+addflags
+prfalse
+nsmsgviewcommandtype
+label
+nsmsgviewcommandtype
+label
+nsmsgviewcommandtype
+label
+nsmsgviewcommandtype
+label
+nsmsgviewcommandtype
+label
+nsmsgviewcommandtype
+label
+flags
+command
+nsmsgviewcommandtype
+label
+addflags
+command
+nsmsgviewcommandtype
+label
+commandislabelset
+prtrue
+nsmsgviewcommandtype
+undeletemsg
+flags
+kimapmsgdeletedflag
+addflags
+prfalse
+nsmsgviewcommandtype
+junk
+imapfolder
+storecustomkeywords
+mmsgwindow
+junk
+nonjunk
+imapuids
+getarray
+imapuids
+getsize
+nsnull
+nsmsgviewcommandtype
+unjunk
+imapfolder
+storecustomkeywords
+mmsgwindow
+nonjunk
+junk
+imapuids
+getarray
+imapuids
+getsize
+nsnull
+flags
+knoimapmsgflag
+commandislabelset
+imapfolder
+storeimapflags
+flags
+addflags
+imapuids
+getarray
+imapuids
+getsize
+rv
+nsresult
+nsmsgdbview
+removebyindex
+nsmsgviewindex
+index
+isvalidindex
+index
+nsmsginvaliddbviewindex
+mkeys
+removeat
+index
+mflags
+removeat
+index
+mlevels
+removeat
+index
+mdeletingrows
+notechange
+index
+nsmsgviewnotificationcode
+insertordelete
+nsok
+nsresult
+nsmsgdbview
+deletemessages
+nsimsgwindow
+window
+nsmsgviewindex
+indices
+print
+numindices
+prbool
+deletestorage
+mdeletingrows
+nswarning
+last
+did
+complete
+nsok
+mdeletemodel
+nsmsgimapdeletemodels
+imapdelete
+mdeletingrows
+prtrue
+nsresult
+rv
+nscomptr
+nsisupportsarray
+messagearray
+nsnewisupportsarray
+getteraddrefs
+messagearray
+nsmsgviewindex
+index
+index
+nsmsgviewindex
+numindices
+index
+nsmsgkey
+key
+mkeys
+getat
+indices
+index
+nscomptr
+nsimsgdbhdr
+msghdr
+rv
+mdb
+getmsghdrforkey
+key
+getteraddrefs
+msghdr
+nssucceeded
+rv
+msghdr
+messagearray
+appendelement
+msghdr
+mdeletingrows
+mindicestonotechange
+add
+indices
+index
+rv
+mfolder
+deletemessages
+messagearray
+window
+deletestorage
+prfalse
+nsnull
+prtrue
+nsfailed
+rv
+mdeletingrows
+prfalse
+rv
+nsresult
+nsmsgdbview
+downloadforoffline
+nsimsgwindow
+window
+nsmsgviewindex
+indices
+print
+numindices
+nsresult
+rv
+nsok
+nscomptr
+nsisupportsarray
+messagearray
+nsnewisupportsarray
+getteraddrefs
+messagearray
+nsmsgviewindex
+index
+index
+nsmsgviewindex
+numindices
+index
+nsmsgkey
+key
+mkeys
+getat
+indices
+index
+nscomptr
+nsimsgdbhdr
+msghdr
+rv
+mdb
+getmsghdrforkey
+key
+getteraddrefs
+msghdr
+nsensuresuccess
+rv
+rv
+msghdr
+pruint
+flags
+msghdr
+getflags
+flags
+flags
+msgflagoffline
+messagearray
+appendelement
+msghdr
+mfolder
+downloadmessagesforoffline
+messagearray
+window
+rv
+nsresult
+nsmsgdbview
+downloadflaggedforoffline
+nsimsgwindow
+window
+nsresult
+rv
+nsok
+nscomptr
+nsisupportsarray
+messagearray
+nsnewisupportsarray
+getteraddrefs
+messagearray
+nscomptr
+nsisimpleenumerator
+enumerator
+rv
+mdb
+enumeratemessages
+getteraddrefs
+enumerator
+nssucceeded
+rv
+enumerator
+prbool
+hasmore
+nssucceeded
+rv
+enumerator
+hasmoreelements
+hasmore
+hasmore
+prtrue
+nscomptr
+nsimsgdbhdr
+pheader
+rv
+enumerator
+getnext
+getteraddrefs
+pheader
+nsassertion
+nssucceeded
+rv
+nsmsgdbenumerator
+broken
+pheader
+nssucceeded
+rv
+pruint
+flags
+pheader
+getflags
+flags
+flags
+msgflagmarked
+flags
+msgflagoffline
+messagearray
+appendelement
+pheader
+mfolder
+downloadmessagesforoffline
+messagearray
+window
+rv
+nsresult
+nsmsgdbview
+togglereadbyindex
+nsmsgviewindex
+index
+isvalidindex
+index
+nsmsginvaliddbviewindex
+setreadbyindex
+index
+mflags
+index
+msgflagread
+nsresult
+nsmsgdbview
+setreadbyindex
+nsmsgviewindex
+index
+prbool
+read
+nsresult
+rv
+isvalidindex
+index
+nsmsginvaliddbviewindex
+read
+orextraflag
+index
+msgflagread
+andextraflag
+index
+msgflagnew
+andextraflag
+index
+msgflagread
+nscomptr
+nsimsgdatabase
+dbtouse
+rv
+getdbforviewindex
+index
+getteraddrefs
+dbtouse
+nsensuresuccess
+rv
+rv
+rv
+dbtouse
+markread
+mkeys
+index
+read
+notechange
+index
+nsmsgviewnotificationcode
+changed
+msorttype
+nsmsgviewsorttype
+bythread
+nsmsgviewindex
+threadindex
+threadindexofmsg
+mkeys
+index
+index
+nsnull
+nsnull
+threadindex
+index
+notechange
+threadindex
+nsmsgviewnotificationcode
+changed
+rv
+nsresult
+nsmsgdbview
+setthreadofmsgreadbyindex
+nsmsgviewindex
+index
+nsmsgkeyarray
+keysmarkedread
+prbool
+nsresult
+rv
+isvalidindex
+index
+nsmsginvaliddbviewindex
+rv
+markthreadofmsgread
+mkeys
+index
+index
+keysmarkedread
+prtrue
+rv
+nsresult
+nsmsgdbview
+setflaggedbyindex
+nsmsgviewindex
+index
+prbool
+mark
+nsresult
+rv
+isvalidindex
+index
+nsmsginvaliddbviewindex
+nscomptr
+nsimsgdatabase
+dbtouse
+rv
+getdbforviewindex
+index
+getteraddrefs
+dbtouse
+nsensuresuccess
+rv
+rv
+mark
+orextraflag
+index
+msgflagmarked
+andextraflag
+index
+msgflagmarked
+rv
+dbtouse
+markmarked
+mkeys
+index
+mark
+notechange
+index
+nsmsgviewnotificationcode
+changed
+rv
+nsresult
+nsmsgdbview
+setlabelbyindex
+nsmsgviewindex
+index
+nsmsglabelvalue
+label
+nsresult
+rv
+isvalidindex
+index
+nsmsginvaliddbviewindex
+nscomptr
+nsimsgdatabase
+dbtouse
+rv
+getdbforviewindex
+index
+getteraddrefs
+dbtouse
+nsensuresuccess
+rv
+rv
+rv
+dbtouse
+setlabel
+mkeys
+index
+label
+notechange
+index
+nsmsgviewnotificationcode
+changed
+rv
+nsresult
+nsmsgdbview
+setstringpropertybyindex
+nsmsgviewindex
+index
+aproperty
+avalue
+isvalidindex
+index
+nsmsginvaliddbviewindex
+nscomptr
+nsimsgdatabase
+dbtouse
+nsresult
+rv
+getdbforviewindex
+index
+getteraddrefs
+dbtouse
+nsensuresuccess
+rv
+rv
+rv
+dbtouse
+setstringproperty
+mkeys
+index
+aproperty
+avalue
+notechange
+index
+nsmsgviewnotificationcode
+changed
+rv
+nsresult
+nsmsgdbview
+setjunkscorebyindex
+nsijunkmailplugin
+ajunkplugin
+nsmsgviewindex
+aindex
+nsmsgjunkstatus
+anewclassification
+prbool
+aislastinbatch
+nscomptr
+nsimsgdbhdr
+msghdr
+nsresult
+rv
+getmsghdrforviewindex
+aindex
+getteraddrefs
+msghdr
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+junkscorestr
+rv
+msghdr
+getstringproperty
+junkscore
+gettercopies
+junkscorestr
+nsxpidlcstring
+oldoriginstr
+rv
+msghdr
+getstringproperty
+junkscoreorigin
+gettercopies
+oldoriginstr
+nsmsgjunkstatus
+olduserclassification
+oldoriginstr
+get
+olduserclassification
+nsijunkmailplugin
+unclassified
+junkscorestr
+isempty
+olduserclassification
+nsijunkmailplugin
+unclassified
+atoi
+junkscorestr
+olduserclassification
+nsijunkmailplugin
+junk
+olduserclassification
+nsijunkmailplugin
+good
+nsxpidlcstring
+uri
+rv
+geturiforviewindex
+aindex
+gettercopies
+uri
+nsensuresuccess
+rv
+rv
+aislastinbatch
+mlastjunkuriinbatch
+uri
+rv
+ajunkplugin
+setmessageclassification
+uri
+olduserclassification
+anewclassification
+mmsgwindow
+nsensuresuccess
+rv
+rv
+rv
+setstringpropertybyindex
+aindex
+junkscoreorigin
+user
+nsassertion
+nssucceeded
+rv
+setstringpropertybyindex
+failed
+rv
+setstringpropertybyindex
+aindex
+junkscore
+anewclassification
+nsijunkmailplugin
+junk
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsmsgdbview
+getfolderfrommsguri
+amsguri
+nsimsgfolder
+afolder
+nsifaddref
+afolder
+mfolder
+nsok
+nsimethodimp
+nsmsgdbview
+onmessageclassified
+amsguri
+nsmsgjunkstatus
+aclassification
+nscomptr
+nsimsgfolder
+folder
+nsresult
+rv
+getfolderfrommsguri
+amsguri
+getteraddrefs
+folder
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+folder
+getserver
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+rv
+savejunkmsgforaction
+server
+amsguri
+aclassification
+nsensuresuccess
+rv
+rv
+mlastjunkuriinbatch
+equals
+amsguri
+nscomptr
+nsimsgfilterplugin
+filterplugin
+rv
+server
+getspamfilterplugin
+getteraddrefs
+filterplugin
+nsensuresuccess
+rv
+rv
+nscomptr
+nsijunkmailplugin
+junkplugin
+doqueryinterface
+filterplugin
+rv
+nsensuresuccess
+rv
+rv
+moutstandingjunkbatches
+moutstandingjunkbatches
+rv
+junkplugin
+endbatch
+nsensuresuccess
+rv
+rv
+rv
+performactiononjunkmsgs
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsmsgdbview
+performactiononjunkmsgs
+pruint
+numindices
+mjunkkeys
+getsize
+numindices
+mjunktargetfolder
+nsnull
+nsok
+nsmsgviewindex
+indices
+nsmsgviewindex
+nsmemory
+alloc
+numindices
+nsmsgviewindex
+indices
+nserroroutofmemory
+pruint
+numindices
+indices
+findkey
+mjunkkeys
+getat
+prtrue
+nsresult
+rv
+mcommandupdater
+updatenextmessageafterdelete
+nsensuresuccess
+rv
+rv
+numindices
+nsquicksort
+indices
+numindices
+nsmsgviewindex
+compareviewindices
+nsnull
+notestartchange
+nsmsgviewnotificationcode
+none
+mjunktargetfolder
+rv
+applycommandtoindiceswithfolder
+nsmsgviewcommandtype
+movemessages
+indices
+numindices
+mjunktargetfolder
+rv
+applycommandtoindices
+nsmsgviewcommandtype
+deletemsg
+indices
+numindices
+noteendchange
+nsmsgviewnotificationcode
+none
+mjunkkeys
+removeall
+mjunktargetfolder
+nsnull
+nsmemory
+free
+indices
+nsassertion
+nssucceeded
+rv
+move
+failed
+rv
+nsresult
+nsmsgdbview
+savejunkmsgforaction
+nsimsgincomingserver
+aserver
+amsguri
+nsmsgjunkstatus
+aclassification
+aclassification
+nsijunkmailplugin
+good
+nsok
+nscomptr
+nsispamsettings
+spamsettings
+nsresult
+rv
+aserver
+getspamsettings
+getteraddrefs
+spamsettings
+nsensuresuccess
+rv
+rv
+print
+spamlevel
+spamsettings
+getlevel
+spamlevel
+spamlevel
+nsok
+prbool
+manualmark
+spamsettings
+getmanualmark
+manualmark
+manualmark
+nsok
+print
+manualmarkmode
+spamsettings
+getmanualmarkmode
+manualmarkmode
+nscomptr
+nsimsgmessageservice
+msgmessageservice
+rv
+getmessageservicefromuri
+amsguri
+getteraddrefs
+msgmessageservice
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgdbhdr
+msghdr
+rv
+msgmessageservice
+messageuritomsghdr
+amsguri
+getteraddrefs
+msghdr
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgfolder
+srcfolder
+rv
+msghdr
+getfolder
+getteraddrefs
+srcfolder
+nsensuresuccess
+rv
+rv
+nsmsgkey
+msgkey
+rv
+msghdr
+getmessagekey
+msgkey
+nsensuresuccess
+rv
+rv
+pruint
+folderflags
+srcfolder
+getflags
+folderflags
+nsassertion
+manualmarkmode
+nsispamsettings
+manualmarkmodemove
+manualmarkmode
+nsispamsettings
+manualmarkmodedelete
+bad
+mode
+manualmarkmode
+nsispamsettings
+manualmarkmodemove
+prbool
+moveonspam
+spamsettings
+getmoveonspam
+moveonspam
+moveonspam
+nsok
+folderflags
+msgfolderflagjunk
+nsok
+nsxpidlcstring
+spamfolderuri
+rv
+spamsettings
+getspamfolderuri
+gettercopies
+spamfolderuri
+nsensuresuccess
+rv
+rv
+nsassertion
+spamfolderuri
+isempty
+spam
+folder
+is
+empty
+can
+move
+spamfolderuri
+isempty
+nscomptr
+nsimsgfolder
+destfolder
+rv
+getexistingfolder
+spamfolderuri
+get
+getteraddrefs
+destfolder
+nssucceeded
+rv
+destfolder
+ifdef
+debug
+mjunkkeys
+getsize
+nsassertion
+mjunktargetfolder
+should
+have
+junk
+folder
+at
+point
+nsassertion
+mjunktargetfolder
+get
+destfolder
+get
+junk
+folder
+doesn
+match
+nsassertion
+mjunktargetfolder
+nsnull
+junk
+folder
+should
+be
+no
+keys
+yet
+endif
+mjunkkeys
+add
+msgkey
+mjunktargetfolder
+mjunktargetfolder
+destfolder
+folderflags
+msgfolderflagtrash
+nsok
+prbool
+candelete
+srcfolder
+getcandeletemessages
+candelete
+candelete
+nsok
+mjunkkeys
+add
+msgkey
+nsassertion
+mjunktargetfolder
+nsnull
+should
+be
+mjunktargetfolder
+nsnull
+nsok
+nsresult
+nsmsgdbview
+reversethreads
+nsuintarray
+newflagarray
+nsuintarray
+newflagarray
+nserroroutofmemory
+nsmsgkeyarray
+newkeyarray
+nsmsgkeyarray
+newkeyarray
+newflagarray
+nserroroutofmemory
+nsuintarray
+newlevelarray
+nsuintarray
+newlevelarray
+newflagarray
+newkeyarray
+nserroroutofmemory
+print
+sourceindex
+destindex
+print
+viewsize
+getsize
+newkeyarray
+setsize
+mkeys
+getsize
+newflagarray
+setsize
+mflags
+getsize
+newlevelarray
+setsize
+mlevels
+getsize
+sourceindex
+destindex
+viewsize
+sourceindex
+viewsize
+print
+endthread
+prbool
+inexpandedthread
+prfalse
+endthread
+sourceindex
+endthread
+viewsize
+endthread
+pruint
+flags
+mflags
+getat
+endthread
+inexpandedthread
+flags
+msgviewflagisthread
+msgviewflaghaschildren
+flags
+msgflagelided
+inexpandedthread
+prtrue
+flags
+msgviewflagisthread
+inexpandedthread
+endthread
+endthread
+viewsize
+endthread
+print
+saveendthread
+endthread
+endthread
+sourceindex
+newkeyarray
+setat
+destindex
+mkeys
+getat
+endthread
+newflagarray
+setat
+destindex
+mflags
+getat
+endthread
+newlevelarray
+setat
+destindex
+mlevels
+getat
+endthread
+endthread
+destindex
+sourceindex
+saveendthread
+mkeys
+removeall
+mflags
+removeall
+mlevels
+removeall
+mkeys
+insertat
+newkeyarray
+mflags
+insertat
+newflagarray
+mlevels
+insertat
+newlevelarray
+newflagarray
+newkeyarray
+newlevelarray
+nsok
+nsresult
+nsmsgdbview
+reversesort
+pruint
+num
+getsize
+nscomptr
+nsisupportsarray
+folders
+getfolders
+getteraddrefs
+folders
+pruint
+num
+pruint
+end
+num
+pruint
+tempflags
+mflags
+getat
+mflags
+setat
+mflags
+getat
+end
+mflags
+setat
+end
+tempflags
+nsmsgkey
+tempkey
+mkeys
+getat
+mkeys
+setat
+mkeys
+getat
+end
+mkeys
+setat
+end
+tempkey
+folders
+nscomptr
+nsisupports
+tmpsupports
+dontaddref
+folders
+elementat
+nscomptr
+nsisupports
+endsupports
+dontaddref
+folders
+elementat
+end
+folders
+setelementat
+endsupports
+folders
+setelementat
+end
+tmpsupports
+nsok
+entryinfo
+nsmsgkey
+id
+pruint
+bits
+pruint
+len
+nsimsgfolder
+folder
+entryinfo
+tagidkey
+entryinfo
+info
+pruint
+key
+idkey
+tagidptrkey
+entryinfo
+info
+pruint
+key
+idkeyptr
+prcallback
+fnsortidkey
+pitem
+pitem
+privatedata
+print
+retval
+nsresult
+rv
+idkey
+idkey
+pitem
+idkey
+idkey
+pitem
+nsimsgdatabase
+db
+nsimsgdatabase
+privatedata
+rv
+db
+comparecollationkeys
+key
+info
+len
+key
+info
+len
+retval
+nsassertion
+nssucceeded
+rv
+compare
+failed
+retval
+retval
+info
+id
+info
+id
+prcallback
+fnsortidkeyptr
+pitem
+pitem
+privatedata
+print
+retval
+nsresult
+rv
+idkeyptr
+idkeyptr
+pitem
+idkeyptr
+idkeyptr
+pitem
+nsimsgdatabase
+db
+nsimsgdatabase
+privatedata
+rv
+db
+comparecollationkeys
+key
+info
+len
+key
+info
+len
+retval
+nsassertion
+nssucceeded
+rv
+compare
+failed
+retval
+retval
+info
+id
+info
+id
+tagiddword
+entryinfo
+info
+pruint
+dword
+iddword
+prcallback
+fnsortiddword
+pitem
+pitem
+privatedata
+iddword
+iddword
+pitem
+iddword
+iddword
+pitem
+dword
+dword
+dword
+dword
+info
+id
+info
+id
+tagidprtime
+entryinfo
+info
+prtime
+prtime
+idprtime
+prcallback
+fnsortidprtime
+pitem
+pitem
+privatedata
+idprtime
+idprtime
+pitem
+idprtime
+idprtime
+pitem
+llcmp
+prtime
+prtime
+llcmp
+prtime
+prtime
+info
+id
+info
+id
+kmaxsubjectkey
+kmaxlocationkey
+kmaxauthorkey
+kmaxrecipientkey
+nsresult
+nsmsgdbview
+getfieldtypeandlenforsort
+nsmsgviewsorttypevalue
+sorttype
+pruint
+pmaxlen
+efieldtype
+pfieldtype
+nsensureargpointer
+pmaxlen
+nsensureargpointer
+pfieldtype
+sorttype
+nsmsgviewsorttype
+bysubject
+pfieldtype
+kcollationkey
+pmaxlen
+kmaxsubjectkey
+nsmsgviewsorttype
+bylocation
+pfieldtype
+kcollationkey
+pmaxlen
+kmaxlocationkey
+nsmsgviewsorttype
+byrecipient
+pfieldtype
+kcollationkey
+pmaxlen
+kmaxrecipientkey
+nsmsgviewsorttype
+byauthor
+pfieldtype
+kcollationkey
+pmaxlen
+kmaxauthorkey
+nsmsgviewsorttype
+bydate
+pfieldtype
+kprtime
+pmaxlen
+prtime
+nsmsgviewsorttype
+bypriority
+nsmsgviewsorttype
+bythread
+nsmsgviewsorttype
+byid
+nsmsgviewsorttype
+bysize
+nsmsgviewsorttype
+byflagged
+nsmsgviewsorttype
+byunread
+nsmsgviewsorttype
+bystatus
+nsmsgviewsorttype
+bylabel
+nsmsgviewsorttype
+byjunkstatus
+pfieldtype
+ku
+pmaxlen
+pruint
+nserrorunexpected
+nsok
+nsresult
+nsmsgdbview
+getprtimefield
+nsimsghdr
+msghdr
+nsmsgviewsorttypevalue
+sorttype
+prtime
+result
+nsresult
+rv
+nsensureargpointer
+msghdr
+nsensureargpointer
+result
+sorttype
+nsmsgviewsorttype
+bydate
+rv
+msghdr
+getdate
+result
+nsassertion
+should
+be
+here
+rv
+nserrorunexpected
+nsensuresuccess
+rv
+rv
+nsok
+define
+msgstatusmask
+msgflagreplied
+msgflagforwarded
+nsresult
+nsmsgdbview
+getstatussortvalue
+nsimsghdr
+msghdr
+pruint
+result
+nsensureargpointer
+msghdr
+nsensureargpointer
+result
+pruint
+messageflags
+nsresult
+rv
+msghdr
+getflags
+messageflags
+nsensuresuccess
+rv
+rv
+messageflags
+msgflagnew
+result
+nsok
+messageflags
+msgstatusmask
+msgflagreplied
+result
+msgflagforwarded
+msgflagreplied
+result
+msgflagforwarded
+result
+messageflags
+msgflagread
+result
+result
+nsok
+nsresult
+nsmsgdbview
+getlongfield
+nsimsghdr
+msghdr
+nsmsgviewsorttypevalue
+sorttype
+pruint
+result
+nsresult
+rv
+nsensureargpointer
+msghdr
+nsensureargpointer
+result
+prbool
+isread
+pruint
+bits
+sorttype
+nsmsgviewsorttype
+bysize
+misnews
+rv
+msghdr
+getlinecount
+result
+rv
+msghdr
+getmessagesize
+result
+nsmsgviewsorttype
+bypriority
+nsmsgpriorityvalue
+priority
+rv
+msghdr
+getpriority
+priority
+priority
+nsmsgpriority
+none
+priority
+nsmsgpriority
+normal
+result
+nsmsgpriority
+highest
+priority
+nsmsgviewsorttype
+bystatus
+rv
+getstatussortvalue
+msghdr
+result
+nsmsgviewsorttype
+bylabel
+rv
+msghdr
+getlabel
+result
+result
+result
+nsmsgviewcommandtype
+lastlabel
+nsmsgviewcommandtype
+label
+nsmsgviewsorttype
+byflagged
+bits
+rv
+msghdr
+getflags
+bits
+result
+bits
+msgflagmarked
+nsmsgviewsorttype
+byunread
+rv
+msghdr
+getisread
+isread
+nssucceeded
+rv
+result
+isread
+nsmsgviewsorttype
+byjunkstatus
+nsxpidlcstring
+junkscorestr
+rv
+msghdr
+getstringproperty
+junkscore
+gettercopies
+junkscorestr
+result
+junkscorestr
+isempty
+atoi
+junkscorestr
+get
+nsmsgviewsorttype
+byid
+nsassertion
+should
+be
+here
+rv
+nserrorunexpected
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsmsgdbview
+getcollationkey
+nsimsghdr
+msghdr
+nsmsgviewsorttypevalue
+sorttype
+pruint
+result
+pruint
+len
+nsresult
+rv
+nsensureargpointer
+msghdr
+nsensureargpointer
+result
+sorttype
+nsmsgviewsorttype
+bysubject
+rv
+msghdr
+getsubjectcollationkey
+result
+len
+nsmsgviewsorttype
+bylocation
+rv
+getlocationcollationkey
+msghdr
+result
+len
+nsmsgviewsorttype
+byrecipient
+rv
+msghdr
+getrecipientscollationkey
+result
+len
+nsmsgviewsorttype
+byauthor
+rv
+msghdr
+getauthorcollationkey
+result
+len
+rv
+nserrorunexpected
+nsassertion
+nssucceeded
+rv
+failed
+to
+get
+the
+collation
+key
+nsfailed
+rv
+result
+nsnull
+len
+nsok
+nsresult
+nsmsgdbview
+getlocationcollationkey
+nsimsghdr
+msghdr
+pruint
+result
+pruint
+len
+nscomptr
+nsimsgfolder
+folder
+nsresult
+rv
+msghdr
+getfolder
+getteraddrefs
+folder
+nsensuresuccess
+rv
+rv
+folder
+nserrornullpointer
+nscomptr
+nsimsgdatabase
+dbtouse
+rv
+folder
+getmsgdatabase
+nsnull
+getteraddrefs
+dbtouse
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+locationstring
+rv
+folder
+getprettiestname
+gettercopies
+locationstring
+nsensuresuccess
+rv
+rv
+rv
+dbtouse
+createcollationkey
+locationstring
+result
+len
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsmsgdbview
+savesortinfo
+nsmsgviewsorttypevalue
+sorttype
+nsmsgviewsortordervalue
+sortorder
+mfolder
+nscomptr
+nsidbfolderinfo
+folderinfo
+nsresult
+rv
+mfolder
+getdbfolderinfoanddb
+getteraddrefs
+folderinfo
+getteraddrefs
+mdb
+nssucceeded
+rv
+folderinfo
+folderinfo
+setsorttype
+sorttype
+folderinfo
+setsortorder
+sortorder
+nsok
+nsimethodimp
+nsmsgdbview
+sort
+nsmsgviewsorttypevalue
+sorttype
+nsmsgviewsortordervalue
+sortorder
+nsresult
+rv
+msorttype
+sorttype
+msortvalid
+msortorder
+sortorder
+nsok
+savesortinfo
+sorttype
+sortorder
+msorttype
+nsmsgviewsorttype
+bythread
+rv
+reversesort
+nsensuresuccess
+rv
+rv
+rv
+reversethreads
+nsensuresuccess
+rv
+rv
+msortorder
+sortorder
+nsok
+sorttype
+nsmsgviewsorttype
+bythread
+nsok
+savesortinfo
+sorttype
+sortorder
+pruint
+maxlen
+efieldtype
+fieldtype
+rv
+getfieldtypeandlenforsort
+sorttype
+maxlen
+fieldtype
+nsensuresuccess
+rv
+rv
+nsvoidarray
+ptrs
+pruint
+arraysize
+getsize
+arraysize
+nsok
+nscomptr
+nsisupportsarray
+folders
+getfolders
+getteraddrefs
+folders
+idprtime
+pptrbase
+idprtime
+prmalloc
+arraysize
+idprtime
+nsassertion
+pptrbase
+out
+of
+memory
+can
+sort
+pptrbase
+nserroroutofmemory
+ptrs
+appendelement
+pptrbase
+pruint
+numsofar
+pruint
+maxsize
+pruint
+maxlen
+entryinfo
+pruint
+arraysize
+numsofar
+pruint
+maxblocksize
+pruint
+xfl
+pruint
+allocsize
+prmin
+maxblocksize
+maxsize
+ptemp
+prmalloc
+allocsize
+nsassertion
+ptemp
+out
+of
+memory
+can
+sort
+ptemp
+freeall
+ptrs
+nserroroutofmemory
+ptrs
+appendelement
+ptemp
+pbase
+ptemp
+prbool
+more
+prtrue
+nscomptr
+nsimsgdbhdr
+msghdr
+pruint
+keyvalue
+nsnull
+pruint
+longvalue
+prtime
+timevalue
+more
+numsofar
+arraysize
+nsmsgkey
+thiskey
+mkeys
+getat
+numsofar
+sorttype
+nsmsgviewsorttype
+byid
+rv
+getmsghdrforviewindex
+numsofar
+getteraddrefs
+msghdr
+nsassertion
+nssucceeded
+rv
+msghdr
+header
+found
+nsfailed
+rv
+msghdr
+freeall
+ptrs
+nserrorunexpected
+msghdr
+nsnull
+pfield
+nsnull
+pruint
+actualfieldlen
+fieldtype
+kcollationkey
+rv
+getcollationkey
+msghdr
+sorttype
+keyvalue
+actualfieldlen
+nsensuresuccess
+rv
+rv
+pfield
+keyvalue
+fieldtype
+kprtime
+rv
+getprtimefield
+msghdr
+sorttype
+timevalue
+nsensuresuccess
+rv
+rv
+pfield
+timevalue
+actualfieldlen
+maxlen
+sorttype
+nsmsgviewsorttype
+byid
+longvalue
+thiskey
+rv
+getlongfield
+msghdr
+sorttype
+longvalue
+nsensuresuccess
+rv
+rv
+pfield
+longvalue
+actualfieldlen
+maxlen
+pruint
+ptemp
+pbase
+pruint
+entryinfo
+pruint
+actualfieldlen
+allocsize
+maxsize
+pruint
+maxlen
+entryinfo
+pruint
+arraysize
+numsofar
+maxblocksize
+pruint
+xfl
+allocsize
+prmin
+maxblocksize
+maxsize
+ptemp
+prmalloc
+allocsize
+nsassertion
+ptemp
+out
+of
+memory
+can
+sort
+ptemp
+freeall
+ptrs
+nserroroutofmemory
+pbase
+ptemp
+ptrs
+appendelement
+ptemp
+nsassertion
+numsofar
+arraysize
+out
+of
+memory
+numsofar
+arraysize
+freeall
+ptrs
+nserroroutofmemory
+pptrbase
+numsofar
+idprtime
+ptemp
+entryinfo
+info
+entryinfo
+ptemp
+info
+id
+thiskey
+info
+bits
+mflags
+getat
+numsofar
+info
+len
+actualfieldlen
+folders
+nscomptr
+nsimsgfolder
+curfolder
+doqueryelementat
+folders
+numsofar
+curfolder
+info
+folder
+curfolder
+ptemp
+entryinfo
+print
+bytesleft
+allocsize
+print
+ptemp
+pbase
+print
+bytestocopy
+prmin
+bytesleft
+print
+actualfieldlen
+pfield
+bytestocopy
+memcpy
+ptemp
+pfield
+bytestocopy
+bytestocopy
+print
+actualfieldlen
+nsassertion
+wow
+big
+block
+info
+len
+bytestocopy
+ptemp
+print
+bytestopad
+print
+bytestocopy
+bytestopad
+print
+bytestocopy
+bytestopad
+ptemp
+bytestocopy
+numsofar
+prfreeif
+keyvalue
+fieldtype
+kcollationkey
+nscomptr
+nsimsgdatabase
+dbtouse
+mdb
+dbtouse
+getdbforviewindex
+getteraddrefs
+dbtouse
+dbtouse
+nsquicksort
+pptrbase
+numsofar
+idkey
+fnsortidkey
+dbtouse
+ku
+nsquicksort
+pptrbase
+numsofar
+iddword
+fnsortiddword
+nsnull
+kprtime
+nsquicksort
+pptrbase
+numsofar
+idprtime
+fnsortidprtime
+nsnull
+nsassertion
+supposed
+to
+get
+here
+pruint
+numsofar
+mkeys
+setat
+pptrbase
+info
+id
+mflags
+setat
+pptrbase
+info
+bits
+folders
+nscomptr
+nsisupports
+tmpsupports
+doqueryinterface
+pptrbase
+info
+folder
+folders
+setelementat
+tmpsupports
+msorttype
+sorttype
+msortorder
+sortorder
+sortorder
+nsmsgviewsortorder
+descending
+rv
+reversesort
+nsassertion
+nssucceeded
+rv
+failed
+to
+reverse
+sort
+freeall
+ptrs
+msortvalid
+prtrue
+nsok
+nsmsgdbview
+freeall
+nsvoidarray
+ptrs
+print
+print
+count
+print
+ptrs
+count
+count
+count
+ptr
+ptrs
+elementat
+prfreeif
+ptr
+ptrs
+clear
+nsmsgviewindex
+nsmsgdbview
+getindexoffirstdisplayedkeyinthread
+nsimsgthread
+threadhdr
+nsmsgviewindex
+retindex
+nsmsgviewindexnone
+pruint
+childindex
+pruint
+numthreadchildren
+threadhdr
+getnumchildren
+numthreadchildren
+retindex
+nsmsgviewindexnone
+childindex
+numthreadchildren
+nsmsgkey
+childkey
+threadhdr
+getchildkeyat
+childindex
+childkey
+retindex
+findviewindex
+childkey
+retindex
+nsresult
+nsmsgdbview
+getfirstmessagehdrtodisplayinthread
+nsimsgthread
+threadhdr
+nsimsgdbhdr
+result
+nsresult
+rv
+mviewflags
+nsmsgviewflagstype
+kunreadonly
+rv
+threadhdr
+getfirstunreadchild
+result
+rv
+threadhdr
+getchildhdrat
+result
+rv
+nsmsgviewindex
+nsmsgdbview
+threadindexofmsg
+nsmsgkey
+msgkey
+nsmsgviewindex
+msgindex
+print
+pthreadcount
+pruint
+pflags
+msorttype
+nsmsgviewsorttype
+bythread
+nsmsgviewindexnone
+nscomptr
+nsimsgthread
+threadhdr
+nscomptr
+nsimsgdbhdr
+msghdr
+nsresult
+rv
+mdb
+getmsghdrforkey
+msgkey
+getteraddrefs
+msghdr
+nsensuresuccess
+rv
+nsmsgviewindexnone
+rv
+mdb
+getthreadcontainingmsghdr
+msghdr
+getteraddrefs
+threadhdr
+nsensuresuccess
+rv
+nsmsgviewindexnone
+nsmsgviewindex
+retindex
+nsmsgviewindexnone
+threadhdr
+nsnull
+msgindex
+nsmsgviewindexnone
+msgindex
+findviewindex
+msgkey
+msgindex
+nsmsgviewindexnone
+msgindex
+getindexoffirstdisplayedkeyinthread
+threadhdr
+pflags
+threadhdr
+getflags
+pflags
+nsmsgviewindex
+startofthread
+msgindex
+print
+startofthread
+mlevels
+startofthread
+startofthread
+retindex
+startofthread
+pthreadcount
+print
+numchildren
+nsmsgviewindex
+threadindex
+startofthread
+threadindex
+numchildren
+int
+threadindex
+mlevels
+getsize
+mlevels
+threadindex
+pthreadcount
+numchildren
+retindex
+nsmsgkey
+nsmsgdbview
+getkeyoffirstmsginthread
+nsmsgkey
+key
+nscomptr
+nsimsgthread
+pthread
+nscomptr
+nsimsgdbhdr
+msghdr
+nsresult
+rv
+mdb
+getmsghdrforkey
+key
+getteraddrefs
+msghdr
+nsensuresuccess
+rv
+rv
+rv
+mdb
+getthreadcontainingmsghdr
+msghdr
+getteraddrefs
+pthread
+nsensuresuccess
+rv
+rv
+nsmsgkey
+firstkeyinthread
+nsmsgkeynone
+nsassertion
+pthread
+error
+getting
+msg
+from
+thread
+pthread
+firstkeyinthread
+pthread
+getchildkeyat
+firstkeyinthread
+firstkeyinthread
+nsimethodimp
+nsmsgdbview
+getkeyat
+nsmsgviewindex
+index
+nsmsgkey
+result
+nsensurearg
+result
+result
+getat
+index
+nsok
+nsmsgkey
+nsmsgdbview
+getat
+nsmsgviewindex
+index
+index
+mkeys
+getsize
+index
+nsmsgviewindexnone
+nsmsgkeynone
+mkeys
+getat
+index
+nsmsgviewindex
+nsmsgdbview
+findkey
+nsmsgkey
+key
+prbool
+expand
+nsmsgviewindex
+retindex
+nsmsgviewindexnone
+retindex
+nsmsgviewindex
+mkeys
+findindex
+key
+key
+nsmsgkeynone
+retindex
+nsmsgviewindexnone
+expand
+mdb
+nsmsgkey
+threadkey
+getkeyoffirstmsginthread
+key
+threadkey
+nsmsgkeynone
+nsmsgviewindex
+threadindex
+findkey
+threadkey
+prfalse
+threadindex
+nsmsgviewindexnone
+pruint
+flags
+mflags
+threadindex
+flags
+msgflagelided
+nssucceeded
+expandbyindex
+threadindex
+nsnull
+retindex
+findkey
+key
+prfalse
+retindex
+nsresult
+nsmsgdbview
+getthreadcount
+nsmsgkey
+messagekey
+pruint
+pthreadcount
+nsresult
+rv
+nsmsgmessagenotfound
+nscomptr
+nsimsgdbhdr
+msghdr
+rv
+mdb
+getmsghdrforkey
+messagekey
+getteraddrefs
+msghdr
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgthread
+pthread
+rv
+mdb
+getthreadcontainingmsghdr
+msghdr
+getteraddrefs
+pthread
+nssucceeded
+rv
+pthread
+nsnull
+rv
+pthread
+getnumchildren
+pthreadcount
+rv
+print
+nsmsgdbview
+countexpandedthread
+nsmsgviewindex
+index
+print
+numinthread
+nsmsgviewindex
+startofthread
+index
+print
+startofthread
+mlevels
+startofthread
+startofthread
+nsmsgviewindex
+threadindex
+startofthread
+threadindex
+numinthread
+print
+threadindex
+mlevels
+getsize
+mlevels
+threadindex
+numinthread
+nsresult
+nsmsgdbview
+expansiondelta
+nsmsgviewindex
+index
+print
+expansiondelta
+pruint
+numchildren
+nsresult
+rv
+expansiondelta
+index
+nsmsgviewindex
+mkeys
+getsize
+nsmsgmessagenotfound
+flags
+mflags
+index
+msorttype
+nsmsgviewsorttype
+bythread
+nsok
+mviewflags
+nsmsgviewflagstype
+kunreadonly
+rv
+getthreadcount
+mkeys
+index
+numchildren
+nsensuresuccess
+rv
+rv
+numchildren
+countexpandedthread
+index
+flags
+msgflagelided
+expansiondelta
+numchildren
+expansiondelta
+print
+numchildren
+nsok
+nsresult
+nsmsgdbview
+toggleexpansion
+nsmsgviewindex
+index
+pruint
+numchanged
+nsensurearg
+numchanged
+numchanged
+nsmsgviewindex
+threadindex
+threadindexofmsg
+getat
+index
+index
+threadindex
+nsmsgviewindexnone
+nsassertion
+prfalse
+couldn
+find
+thread
+nsmsgmessagenotfound
+print
+flags
+mflags
+threadindex
+flags
+msgviewflagisthread
+flags
+msgviewflaghaschildren
+nsmsgmessagenotfound
+flags
+msgflagelided
+expandbyindex
+threadindex
+numchanged
+collapsebyindex
+threadindex
+numchanged
+nsresult
+nsmsgdbview
+expandandselectthread
+nsresult
+rv
+nsassertion
+mtreeselection
+no
+tree
+selection
+mtreeselection
+nserrorunexpected
+print
+index
+rv
+mtreeselection
+getcurrentindex
+index
+nsensuresuccess
+rv
+rv
+rv
+expandandselectthreadbyindex
+index
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsmsgdbview
+expandandselectthreadbyindex
+nsmsgviewindex
+index
+nsresult
+rv
+nsmsgviewindex
+threadindex
+prbool
+inthreadedmode
+mviewflags
+nsmsgviewflagstype
+kthreadeddisplay
+inthreadedmode
+threadindex
+threadindexofmsg
+getat
+index
+index
+threadindex
+nsmsgviewindexnone
+nsassertion
+prfalse
+couldn
+find
+thread
+nsmsgmessagenotfound
+threadindex
+index
+print
+flags
+mflags
+threadindex
+print
+count
+inthreadedmode
+flags
+msgviewflagisthread
+flags
+msgviewflaghaschildren
+flags
+msgflagelided
+pruint
+numexpanded
+rv
+expandbyindex
+threadindex
+numexpanded
+nsensuresuccess
+rv
+rv
+count
+countexpandedthread
+threadindex
+count
+nsassertion
+count
+bad
+count
+nsassertion
+mtreeselection
+no
+tree
+selection
+mtreeselection
+nserrorunexpected
+mtreeselection
+clearselection
+mtreeselection
+setcurrentindex
+threadindex
+mtreeselection
+rangedselect
+threadindex
+threadindex
+count
+prtrue
+count
+selectionchanged
+nsok
+nsresult
+nsmsgdbview
+expandall
+print
+getsize
+pruint
+numexpanded
+pruint
+flags
+mflags
+flags
+msgflagelided
+expandbyindex
+numexpanded
+nsok
+nsresult
+nsmsgdbview
+expandbyindex
+nsmsgviewindex
+index
+pruint
+pnumexpanded
+pruint
+flags
+mflags
+index
+nsmsgkey
+firstidinthread
+nsresult
+rv
+nsok
+pruint
+numexpanded
+nsassertion
+flags
+msgflagelided
+can
+expand
+an
+already
+expanded
+thread
+flags
+msgflagelided
+pruint
+index
+mkeys
+getsize
+nsmsgmessagenotfound
+firstidinthread
+mkeys
+index
+nscomptr
+nsimsgdbhdr
+msghdr
+nscomptr
+nsimsgthread
+pthread
+mdb
+getmsghdrforkey
+firstidinthread
+getteraddrefs
+msghdr
+msghdr
+nsnull
+nsassertion
+prfalse
+couldn
+find
+message
+to
+expand
+nsmsgmessagenotfound
+rv
+mdb
+getthreadcontainingmsghdr
+msghdr
+getteraddrefs
+pthread
+mflags
+index
+flags
+notechange
+index
+nsmsgviewnotificationcode
+changed
+mviewflags
+nsmsgviewflagstype
+kunreadonly
+flags
+msgflagread
+mlevels
+add
+rv
+listunreadidsinthread
+pthread
+index
+numexpanded
+rv
+listidsinthread
+pthread
+index
+numexpanded
+notestartchange
+index
+numexpanded
+nsmsgviewnotificationcode
+insertordelete
+noteendchange
+index
+numexpanded
+nsmsgviewnotificationcode
+insertordelete
+pnumexpanded
+nsnull
+pnumexpanded
+numexpanded
+rv
+nsresult
+nsmsgdbview
+collapseall
+print
+getsize
+pruint
+numexpanded
+pruint
+flags
+mflags
+flags
+msgflagelided
+flags
+msgviewflaghaschildren
+collapsebyindex
+numexpanded
+nsok
+nsresult
+nsmsgdbview
+collapsebyindex
+nsmsgviewindex
+index
+pruint
+pnumcollapsed
+nsmsgkey
+firstidinthread
+nsresult
+rv
+print
+flags
+mflags
+index
+print
+threadcount
+flags
+msgflagelided
+msorttype
+nsmsgviewsorttype
+bythread
+flags
+msgviewflaghaschildren
+nsok
+flags
+msgflagelided
+index
+mkeys
+getsize
+nsmsgmessagenotfound
+firstidinthread
+mkeys
+index
+nscomptr
+nsimsgdbhdr
+msghdr
+rv
+mdb
+getmsghdrforkey
+firstidinthread
+getteraddrefs
+msghdr
+nsfailed
+rv
+msghdr
+nsnull
+nsassertion
+prfalse
+error
+collapsing
+thread
+nsmsgmessagenotfound
+mflags
+index
+flags
+notechange
+index
+nsmsgviewnotificationcode
+changed
+rv
+expansiondelta
+index
+threadcount
+nssucceeded
+rv
+print
+numremoved
+threadcount
+notestartchange
+index
+numremoved
+nsmsgviewnotificationcode
+insertordelete
+threadcount
+index
+mkeys
+getsize
+mkeys
+removeat
+index
+mflags
+removeat
+index
+mlevels
+removeat
+index
+pnumcollapsed
+nsnull
+pnumcollapsed
+numremoved
+noteendchange
+index
+numremoved
+nsmsgviewnotificationcode
+insertordelete
+rv
+nsresult
+nsmsgdbview
+onnewheader
+nsmsgkey
+newkey
+nsmsgkey
+aparentkey
+prbool
+nsresult
+rv
+nsmsgmessagenotfound
+nscomptr
+nsimsgdbhdr
+msghdr
+nsassertion
+mdb
+mdb
+is
+mdb
+rv
+mdb
+getmsghdrforkey
+newkey
+getteraddrefs
+msghdr
+nssucceeded
+rv
+msghdr
+nsnull
+rv
+addhdr
+msghdr
+rv
+nsresult
+nsmsgdbview
+getthreadcontainingindex
+nsmsgviewindex
+index
+nsimsgthread
+resultthread
+nscomptr
+nsimsgdbhdr
+msghdr
+nsensuretrue
+mdb
+nserrornullpointer
+nsresult
+rv
+mdb
+getmsghdrforkey
+mkeys
+index
+getteraddrefs
+msghdr
+nsensuresuccess
+rv
+rv
+mdb
+getthreadcontainingmsghdr
+msghdr
+resultthread
+nsmsgviewindex
+nsmsgdbview
+getindexforthread
+nsimsgdbhdr
+hdr
+nsmsgviewindex
+retindex
+nsmsgviewindexnone
+nsmsgviewindex
+previnsertindex
+nsmsgviewindexnone
+nsmsgkey
+insertkey
+hdr
+getmessagekey
+insertkey
+msortorder
+nsmsgviewsortorder
+ascending
+print
+getsize
+mlevels
+insertkey
+mkeys
+getat
+previnsertindex
+insertkey
+mkeys
+getat
+retindex
+previnsertindex
+nsmsgviewindexnone
+nsmsgviewindexnone
+previnsertindex
+nsmsgviewindexnone
+retindex
+nsmsgviewindexnone
+retindex
+retindex
+nsmsgviewindex
+getsize
+retindex
+mlevels
+retindex
+print
+getsize
+mlevels
+insertkey
+mkeys
+getat
+retindex
+retindex
+nsmsgviewindex
+nsmsgdbview
+getinsertindex
+nsimsgdbhdr
+msghdr
+prbool
+done
+prfalse
+prbool
+withinone
+prfalse
+nsmsgviewindex
+retindex
+nsmsgviewindexnone
+nsmsgviewindex
+tryindex
+getsize
+nsmsgviewindex
+newtryindex
+nsmsgviewindex
+lowindex
+nsmsgviewindex
+highindex
+getsize
+iddword
+dwordentryinfo
+dwordentryinfo
+idkeyptr
+keyinfo
+keyinfo
+keyinfo
+key
+nsnull
+keyinfo
+key
+nsnull
+idprtime
+timeinfo
+timeinfo
+comparisoncontext
+nsnull
+nsresult
+rv
+getsize
+pruint
+maxlen
+efieldtype
+fieldtype
+rv
+getfieldtypeandlenforsort
+msorttype
+maxlen
+fieldtype
+pvalue
+pvalue
+mviewflags
+nsmsgviewflagstype
+kthreadeddisplay
+retindex
+getindexforthread
+msghdr
+retindex
+prcallback
+comparisonfun
+pitem
+pitem
+privatedata
+nsnull
+retstatus
+fieldtype
+kcollationkey
+rv
+getcollationkey
+msghdr
+msorttype
+keyinfo
+key
+keyinfo
+info
+len
+nsassertion
+nssucceeded
+rv
+failed
+to
+create
+collation
+key
+msghdr
+getmessagekey
+keyinfo
+info
+id
+comparisonfun
+fnsortidkeyptr
+comparisoncontext
+mdb
+get
+pvalue
+keyinfo
+ku
+msorttype
+nsmsgviewsorttype
+byid
+msghdr
+getmessagekey
+dwordentryinfo
+dword
+getlongfield
+msghdr
+msorttype
+dwordentryinfo
+dword
+msghdr
+getmessagekey
+dwordentryinfo
+info
+id
+pvalue
+dwordentryinfo
+comparisonfun
+fnsortiddword
+kprtime
+rv
+getprtimefield
+msghdr
+msorttype
+timeinfo
+prtime
+msghdr
+getmessagekey
+timeinfo
+info
+id
+nsensuresuccess
+rv
+rv
+comparisonfun
+fnsortidprtime
+pvalue
+timeinfo
+done
+prtrue
+done
+highindex
+lowindex
+nsmsgkey
+messagekey
+getat
+tryindex
+nscomptr
+nsimsgdbhdr
+tryhdr
+rv
+mdb
+getmsghdrforkey
+messagekey
+getteraddrefs
+tryhdr
+tryhdr
+fieldtype
+kcollationkey
+prfreeif
+keyinfo
+key
+rv
+getcollationkey
+tryhdr
+msorttype
+keyinfo
+key
+keyinfo
+info
+len
+nsassertion
+nssucceeded
+rv
+failed
+to
+create
+collation
+key
+keyinfo
+info
+id
+messagekey
+pvalue
+keyinfo
+fieldtype
+ku
+msorttype
+nsmsgviewsorttype
+byid
+dwordentryinfo
+dword
+messagekey
+getlongfield
+tryhdr
+msorttype
+dwordentryinfo
+dword
+dwordentryinfo
+info
+id
+messagekey
+pvalue
+dwordentryinfo
+fieldtype
+kprtime
+getprtimefield
+tryhdr
+msorttype
+timeinfo
+prtime
+timeinfo
+info
+id
+messagekey
+pvalue
+timeinfo
+retstatus
+comparisonfun
+pvalue
+pvalue
+comparisoncontext
+retstatus
+msortorder
+nsmsgviewsortorder
+descending
+retstatus
+retstatus
+retstatus
+newtryindex
+tryindex
+tryindex
+lowindex
+newtryindex
+tryindex
+withinone
+newtryindex
+lowindex
+newtryindex
+withinone
+prtrue
+highindex
+tryindex
+newtryindex
+tryindex
+highindex
+tryindex
+newtryindex
+tryindex
+withinone
+newtryindex
+highindex
+withinone
+prtrue
+newtryindex
+lowindex
+tryindex
+tryindex
+newtryindex
+tryindex
+newtryindex
+retstatus
+retindex
+tryindex
+retstatus
+retindex
+tryindex
+prfreeif
+keyinfo
+key
+prfreeif
+keyinfo
+key
+retindex
+nsresult
+nsmsgdbview
+addhdr
+nsimsgdbhdr
+msghdr
+pruint
+flags
+ifdef
+debugbienvenu
+nsassertion
+mkeys
+getsize
+mflags
+getsize
+mkeys
+getsize
+mlevels
+getsize
+view
+arrays
+out
+of
+sync
+endif
+msghdr
+getflags
+flags
+flags
+msgflagignored
+getshowingignored
+nsok
+nsmsgkey
+msgkey
+threadid
+nsmsgkey
+threadparent
+msghdr
+getmessagekey
+msgkey
+msghdr
+getthreadid
+threadid
+msghdr
+getthreadparent
+threadparent
+threadparent
+nsmsgkeynone
+flags
+msgviewflagisthread
+nsmsgviewindex
+insertindex
+getinsertindex
+msghdr
+insertindex
+nsmsgviewindexnone
+print
+leveltoadd
+mviewflags
+nsmsgviewflagstype
+kunreadonly
+leveltoadd
+findlevelinthread
+msghdr
+insertindex
+endif
+msortorder
+nsmsgviewsortorder
+ascending
+mkeys
+add
+msgkey
+mflags
+add
+flags
+mlevels
+add
+leveltoadd
+notechange
+getsize
+nsmsgviewnotificationcode
+insertordelete
+mkeys
+insertat
+msgkey
+mflags
+insertat
+flags
+mlevels
+insertat
+leveltoadd
+notechange
+nsmsgviewnotificationcode
+insertordelete
+msortvalid
+prfalse
+mkeys
+insertat
+insertindex
+msgkey
+mflags
+insertat
+insertindex
+flags
+print
+level
+mviewflags
+nsmsgviewflagstype
+kthreadeddisplay
+level
+findlevelinthread
+msghdr
+insertindex
+endif
+mlevels
+insertat
+insertindex
+level
+notechange
+insertindex
+nsmsgviewnotificationcode
+insertordelete
+onheaderaddedordeleted
+nsok
+prbool
+nsmsgdbview
+wantsthisthread
+nsimsgthread
+prtrue
+print
+nsmsgdbview
+findlevelinthread
+nsimsgdbhdr
+msghdr
+nsmsgviewindex
+startofthreadviewindex
+nsmsgkey
+threadparent
+msghdr
+getthreadparent
+threadparent
+nsmsgviewindex
+parentindex
+mkeys
+findindex
+threadparent
+startofthreadviewindex
+parentindex
+nsmsgviewindexnone
+mlevels
+parentindex
+ifdef
+debugbienvenu
+nsassertion
+prfalse
+couldn
+find
+parent
+of
+msg
+endif
+nsmsgkey
+msgkey
+msghdr
+getmessagekey
+msgkey
+threadparent
+nsmsgkeynone
+threadparent
+msgkey
+nsresult
+nsmsgdbview
+listidsinthreadorder
+nsimsgthread
+threadhdr
+nsmsgkey
+parentkey
+print
+level
+nsmsgviewindex
+viewindex
+pruint
+pnumlisted
+nsresult
+rv
+nsok
+nscomptr
+nsisimpleenumerator
+msgenumerator
+threadhdr
+enumeratemessages
+parentkey
+getteraddrefs
+msgenumerator
+pruint
+numchildren
+threadhdr
+getnumchildren
+numchildren
+prbool
+hasmore
+nscomptr
+nsisupports
+supports
+nscomptr
+nsimsgdbhdr
+msghdr
+nssucceeded
+rv
+nssucceeded
+rv
+msgenumerator
+hasmoreelements
+hasmore
+hasmore
+rv
+msgenumerator
+getnext
+getteraddrefs
+supports
+nssucceeded
+rv
+supports
+msghdr
+doqueryinterface
+supports
+nsmsgkey
+msgkey
+pruint
+msgflags
+newflags
+msghdr
+getmessagekey
+msgkey
+msghdr
+getflags
+msgflags
+adjustreadflag
+msghdr
+msgflags
+mkeys
+insertat
+viewindex
+msgkey
+mflags
+insertat
+viewindex
+msgflags
+msgviewflags
+mlevels
+insertat
+viewindex
+level
+msghdr
+andflags
+msgviewflagisthread
+msgflagelided
+newflags
+pnumlisted
+viewindex
+pnumlisted
+numchildren
+nsassertion
+prfalse
+thread
+corrupt
+in
+db
+mdb
+setsummaryvalid
+prfalse
+rv
+nsmsgerrorfoldersummaryoutofdate
+rv
+listidsinthreadorder
+threadhdr
+msgkey
+level
+viewindex
+pnumlisted
+rv
+nsresult
+nsmsgdbview
+listidsinthread
+nsimsgthread
+threadhdr
+nsmsgviewindex
+startofthreadviewindex
+pruint
+pnumlisted
+nsensurearg
+threadhdr
+pruint
+nsmsgviewindex
+viewindex
+startofthreadviewindex
+pnumlisted
+mviewflags
+nsmsgviewflagstype
+kthreadeddisplay
+nsmsgkey
+parentkey
+mkeys
+startofthreadviewindex
+listidsinthreadorder
+threadhdr
+parentkey
+viewindex
+pnumlisted
+pruint
+numchildren
+threadhdr
+getnumchildren
+numchildren
+numchildren
+nscomptr
+nsimsgdbhdr
+msghdr
+threadhdr
+getchildhdrat
+getteraddrefs
+msghdr
+msghdr
+nsnull
+nsmsgkey
+msgkey
+pruint
+msgflags
+newflags
+msghdr
+getmessagekey
+msgkey
+msghdr
+getflags
+msgflags
+adjustreadflag
+msghdr
+msgflags
+mkeys
+insertat
+viewindex
+msgkey
+mflags
+insertat
+viewindex
+msgflags
+msgviewflags
+print
+level
+findlevelinthread
+msghdr
+startofthreadviewindex
+mlevels
+insertat
+viewindex
+level
+msghdr
+andflags
+msgviewflagisthread
+msgflagelided
+newflags
+pnumlisted
+viewindex
+nsok
+print
+nsmsgdbview
+getlevelinunreadview
+nsimsgdbhdr
+msghdr
+nsmsgviewindex
+startofthread
+nsmsgviewindex
+viewindex
+nscomptr
+nsimsgdbhdr
+curmsghdr
+msghdr
+curmsghdr
+nsmsgkey
+parentkey
+curmsghdr
+getthreadparent
+parentkey
+parentkey
+nsmsgkeynone
+nsmsgviewindex
+indextotry
+viewindex
+indextotry
+indextotry
+startofthread
+mkeys
+indextotry
+parentkey
+mlevels
+indextotry
+nsfailed
+mdb
+getmsghdrforkey
+parentkey
+getteraddrefs
+curmsghdr
+nserror
+getmsghdrforkey
+failed
+used
+to
+be
+an
+infinte
+loop
+condition
+curmsghdr
+nsnull
+nsresult
+nsmsgdbview
+listunreadidsinthread
+nsimsgthread
+threadhdr
+nsmsgviewindex
+startofthreadviewindex
+pruint
+pnumlisted
+nsensurearg
+threadhdr
+nsmsgviewindex
+viewindex
+startofthreadviewindex
+pnumlisted
+nsmsgkey
+toplevelmsgkey
+mkeys
+startofthreadviewindex
+pruint
+numchildren
+threadhdr
+getnumchildren
+numchildren
+pruint
+numchildren
+nscomptr
+nsimsgdbhdr
+msghdr
+threadhdr
+getchildhdrat
+getteraddrefs
+msghdr
+msghdr
+nsnull
+nsmsgkey
+msgkey
+pruint
+msgflags
+msghdr
+getmessagekey
+msgkey
+msghdr
+getflags
+msgflags
+prbool
+isread
+adjustreadflag
+msghdr
+msgflags
+isread
+pruint
+leveltoadd
+mdb
+markhdrread
+msghdr
+prfalse
+nsnull
+msgkey
+toplevelmsgkey
+mkeys
+insertat
+viewindex
+msgkey
+mflags
+insertat
+viewindex
+msgflags
+leveltoadd
+getlevelinunreadview
+msghdr
+startofthreadviewindex
+viewindex
+mlevels
+insertat
+viewindex
+leveltoadd
+viewindex
+pnumlisted
+nsok
+nsimethodimp
+nsmsgdbview
+onkeychange
+nsmsgkey
+akeychanged
+pruint
+aoldflags
+pruint
+anewflags
+nsidbchangelistener
+ainstigator
+ainstigator
+nsmsgviewindex
+index
+findviewindex
+akeychanged
+index
+nsmsgviewindexnone
+pruint
+viewonlyflags
+mflags
+index
+msgviewflags
+msgflagelided
+mflags
+index
+anewflags
+viewonlyflags
+onextraflagchanged
+index
+anewflags
+notechange
+index
+nsmsgviewnotificationcode
+changed
+pruint
+deltaflags
+aoldflags
+anewflags
+deltaflags
+msgflagread
+msgflagnew
+nsmsgviewindex
+threadindex
+threadindexofmsg
+akeychanged
+threadindex
+nsmsgviewindexnone
+threadindex
+index
+notechange
+threadindex
+nsmsgviewnotificationcode
+changed
+nsok
+nsimethodimp
+nsmsgdbview
+onkeydeleted
+nsmsgkey
+akeychanged
+nsmsgkey
+aparentkey
+print
+aflags
+nsidbchangelistener
+ainstigator
+nsmsgviewindex
+deletedindex
+mkeys
+findindex
+akeychanged
+deletedindex
+nsmsgviewindexnone
+removebyindex
+deletedindex
+nsok
+nsimethodimp
+nsmsgdbview
+onkeyadded
+nsmsgkey
+akeychanged
+nsmsgkey
+aparentkey
+print
+aflags
+nsidbchangelistener
+ainstigator
+onnewheader
+akeychanged
+aparentkey
+prfalse
+nsimethodimp
+nsmsgdbview
+onparentchanged
+nsmsgkey
+akeychanged
+nsmsgkey
+oldparent
+nsmsgkey
+newparent
+nsidbchangelistener
+ainstigator
+nsok
+nsimethodimp
+nsmsgdbview
+onannouncergoingaway
+nsidbchangeannouncer
+instigator
+mdb
+mdb
+removelistener
+mdb
+nsnull
+clearhdrcache
+mkeys
+removeall
+mflags
+removeall
+mlevels
+removeall
+mtreeselection
+mtreeselection
+clearselection
+mtree
+mtree
+invalidate
+nsok
+nsimethodimp
+nsmsgdbview
+onreadchanged
+nsidbchangelistener
+ainstigator
+nsok
+nsimethodimp
+nsmsgdbview
+onjunkscorechanged
+nsidbchangelistener
+ainstigator
+nsok
+nsmsgdbview
+clearhdrcache
+mcachedhdr
+nsnull
+mcachedmsgkey
+nsmsgkeynone
+nsmsgdbview
+enablechangeupdates
+nsmsgdbview
+disablechangeupdates
+nsmsgdbview
+notechange
+nsmsgviewindex
+firstlinechanged
+print
+numchanged
+nsmsgviewnotificationcodevalue
+changetype
+mtree
+changetype
+nsmsgviewnotificationcode
+changed
+mtree
+invalidaterange
+firstlinechanged
+firstlinechanged
+numchanged
+nsmsgviewnotificationcode
+insertordelete
+numchanged
+mremovingrow
+prtrue
+mtree
+rowcountchanged
+firstlinechanged
+numchanged
+mremovingrow
+prfalse
+nsmsgviewnotificationcode
+all
+clearhdrcache
+nsmsgdbview
+notestartchange
+nsmsgviewindex
+firstlinechanged
+print
+numchanged
+nsmsgviewnotificationcodevalue
+changetype
+nsmsgdbview
+noteendchange
+nsmsgviewindex
+firstlinechanged
+print
+numchanged
+nsmsgviewnotificationcodevalue
+changetype
+notechange
+firstlinechanged
+numchanged
+changetype
+nsimethodimp
+nsmsgdbview
+getsortorder
+nsmsgviewsortordervalue
+asortorder
+nsensureargpointer
+asortorder
+asortorder
+msortorder
+nsok
+nsimethodimp
+nsmsgdbview
+getsorttype
+nsmsgviewsorttypevalue
+asorttype
+nsensureargpointer
+asorttype
+asorttype
+msorttype
+nsok
+nsimethodimp
+nsmsgdbview
+getviewtype
+nsmsgviewtypevalue
+aviewtype
+nsassertion
+you
+should
+be
+overriding
+nserrorunexpected
+nsimethodimp
+nsmsgdbview
+getviewflags
+nsmsgviewflagstypevalue
+aviewflags
+nsensureargpointer
+aviewflags
+aviewflags
+mviewflags
+nsok
+nsimethodimp
+nsmsgdbview
+setviewflags
+nsmsgviewflagstypevalue
+aviewflags
+mviewflags
+aviewflags
+nsok
+nsresult
+nsmsgdbview
+markthreadofmsgread
+nsmsgkey
+msgid
+nsmsgviewindex
+msgindex
+nsmsgkeyarray
+idsmarkedread
+prbool
+bread
+nscomptr
+nsimsgthread
+threadhdr
+nsresult
+rv
+getthreadcontainingindex
+msgindex
+getteraddrefs
+threadhdr
+nsensuresuccess
+rv
+rv
+nsmsgviewindex
+threadindex
+nsassertion
+threadhdr
+threadhdr
+is
+threadhdr
+nsmsgmessagenotfound
+nscomptr
+nsimsgdbhdr
+firsthdr
+threadhdr
+getchildat
+getteraddrefs
+firsthdr
+nsmsgkey
+firsthdrid
+firsthdr
+getmessagekey
+firsthdrid
+msgid
+firsthdrid
+threadindex
+getindexoffirstdisplayedkeyinthread
+threadhdr
+threadindex
+msgindex
+rv
+markthreadread
+threadhdr
+threadindex
+idsmarkedread
+bread
+rv
+nsresult
+nsmsgdbview
+markthreadread
+nsimsgthread
+threadhdr
+nsmsgviewindex
+threadindex
+nsmsgkeyarray
+idsmarkedread
+prbool
+bread
+prbool
+threadelided
+prtrue
+threadindex
+nsmsgviewindexnone
+threadelided
+mflags
+getat
+threadindex
+msgflagelided
+pruint
+numchildren
+threadhdr
+getnumchildren
+numchildren
+print
+childindex
+childindex
+print
+numchildren
+childindex
+nscomptr
+nsimsgdbhdr
+msghdr
+threadhdr
+getchildhdrat
+childindex
+getteraddrefs
+msghdr
+nsassertion
+msghdr
+msghdr
+is
+msghdr
+prbool
+isread
+nsmsgkey
+hdrmsgid
+msghdr
+getmessagekey
+hdrmsgid
+mdb
+isread
+hdrmsgid
+isread
+isread
+bread
+mdb
+markhdrread
+msghdr
+bread
+nsnull
+idsmarkedread
+insertat
+hdrmsgid
+nsok
+prbool
+nsmsgdbview
+adjustreadflag
+nsimsgdbhdr
+msghdr
+pruint
+msgflags
+prbool
+isread
+prfalse
+nsmsgkey
+msgkey
+msghdr
+getmessagekey
+msgkey
+mdb
+isread
+msgkey
+isread
+ifdef
+debugbienvenu
+nsassertion
+isread
+msgflags
+msgflagread
+msgflags
+out
+of
+sync
+endif
+isread
+msgflags
+msgflagread
+msgflags
+msgflagread
+mdb
+markhdrread
+msghdr
+isread
+nsnull
+isread
+nsimethodimp
+nsmsgdbview
+viewnavigate
+nsmsgnavigationtypevalue
+motion
+nsmsgkey
+presultkey
+nsmsgviewindex
+presultindex
+nsmsgviewindex
+pthreadindex
+prbool
+wrap
+nsensureargpointer
+presultkey
+nsensureargpointer
+presultindex
+nsensureargpointer
+pthreadindex
+print
+currentindex
+nsmsgviewindex
+startindex
+mtreeselection
+currentindex
+findviewindex
+mcurrentlydisplayedmsgkey
+nsresult
+rv
+mtreeselection
+getcurrentindex
+currentindex
+nsensuresuccess
+rv
+rv
+startindex
+currentindex
+nsmsgdbview
+navigatefrompos
+motion
+startindex
+presultkey
+presultindex
+pthreadindex
+wrap
+nsresult
+nsmsgdbview
+navigatefrompos
+nsmsgnavigationtypevalue
+motion
+nsmsgviewindex
+startindex
+nsmsgkey
+presultkey
+nsmsgviewindex
+presultindex
+nsmsgviewindex
+pthreadindex
+prbool
+wrap
+nsresult
+rv
+nsok
+nsmsgkey
+resultthreadkey
+nsmsgviewindex
+curindex
+nsmsgviewindex
+lastindex
+getsize
+nsmsgviewindex
+getsize
+nsmsgviewindexnone
+nsmsgviewindex
+threadindex
+nsmsgviewindexnone
+getsize
+presultindex
+nsmsgviewindexnone
+presultkey
+nsmsgkeynone
+nsok
+motion
+nsmsgnavigationtype
+firstmessage
+presultindex
+presultkey
+mkeys
+getat
+nsmsgnavigationtype
+nextmessage
+presultindex
+prmin
+startindex
+lastindex
+presultkey
+mkeys
+getat
+presultindex
+nsmsgnavigationtype
+previousmessage
+presultindex
+startindex
+nsmsgviewindexnone
+startindex
+presultkey
+mkeys
+getat
+presultindex
+nsmsgnavigationtype
+lastmessage
+presultindex
+lastindex
+presultkey
+mkeys
+getat
+presultindex
+nsmsgnavigationtype
+firstflagged
+rv
+findfirstflagged
+presultindex
+isvalidindex
+presultindex
+presultkey
+mkeys
+getat
+presultindex
+nsmsgnavigationtype
+nextflagged
+rv
+findnextflagged
+startindex
+presultindex
+isvalidindex
+presultindex
+presultkey
+mkeys
+getat
+presultindex
+nsmsgnavigationtype
+previousflagged
+rv
+findprevflagged
+startindex
+presultindex
+isvalidindex
+presultindex
+presultkey
+mkeys
+getat
+presultindex
+nsmsgnavigationtype
+firstnew
+rv
+findfirstnew
+presultindex
+isvalidindex
+presultindex
+presultkey
+mkeys
+getat
+presultindex
+nsmsgnavigationtype
+firstunreadmessage
+startindex
+nsmsgviewindexnone
+nsmsgnavigationtype
+nextunreadmessage
+curindex
+startindex
+nsmsgviewindexnone
+startindex
+curindex
+lastindex
+lastindex
+nsmsgviewindexnone
+curindex
+pruint
+flags
+mflags
+getat
+curindex
+flags
+msgflagread
+curindex
+startindex
+presultindex
+curindex
+presultkey
+mkeys
+getat
+presultindex
+msorttype
+nsmsgviewsorttype
+bythread
+flags
+msgviewflagisthread
+flags
+msgflagelided
+nscomptr
+nsimsgthread
+threadhdr
+getthreadcontainingindex
+curindex
+getteraddrefs
+threadhdr
+nsensuresuccess
+rv
+rv
+nsassertion
+threadhdr
+threadhdr
+is
+threadhdr
+pruint
+numunreadchildren
+threadhdr
+getnumunreadchildren
+numunreadchildren
+numunreadchildren
+pruint
+numexpanded
+expandbyindex
+curindex
+numexpanded
+lastindex
+numexpanded
+pthreadindex
+pthreadindex
+curindex
+curindex
+lastindex
+wrap
+nsmsgkey
+startkey
+getat
+startindex
+rv
+navigatefrompos
+nsmsgnavigationtype
+nextunreadmessage
+nsmsgviewindexnone
+presultkey
+presultindex
+pthreadindex
+prfalse
+presultkey
+startkey
+presultindex
+nsmsgviewindexnone
+presultkey
+nsmsgkeynone
+presultindex
+nsmsgviewindexnone
+presultkey
+nsmsgkeynone
+nsmsgnavigationtype
+previousunreadmessage
+startindex
+nsmsgviewindexnone
+rv
+findprevunread
+mkeys
+getat
+startindex
+presultkey
+resultthreadkey
+nssucceeded
+rv
+presultindex
+findviewindex
+presultkey
+presultkey
+resultthreadkey
+msorttype
+nsmsgviewsorttype
+bythread
+threadindex
+threadindexofmsg
+presultkey
+nsmsgviewindexnone
+presultindex
+nsmsgviewindexnone
+nscomptr
+nsimsgthread
+threadhdr
+nscomptr
+nsimsgdbhdr
+msghdr
+rv
+mdb
+getmsghdrforkey
+presultkey
+getteraddrefs
+msghdr
+nsensuresuccess
+rv
+rv
+rv
+mdb
+getthreadcontainingmsghdr
+msghdr
+getteraddrefs
+threadhdr
+nsensuresuccess
+rv
+rv
+nsassertion
+threadhdr
+threadhdr
+is
+threadhdr
+pruint
+numunreadchildren
+threadhdr
+getnumunreadchildren
+numunreadchildren
+numunreadchildren
+pruint
+numexpanded
+expandbyindex
+threadindex
+numexpanded
+presultindex
+findviewindex
+presultkey
+pthreadindex
+pthreadindex
+threadindex
+nsmsgnavigationtype
+lastunreadmessage
+nsmsgnavigationtype
+nextunreadthread
+nsmsgkeyarray
+idsmarkedread
+startindex
+nsmsgviewindexnone
+nsassertion
+startindex
+nsmsgviewindexnone
+rv
+markthreadofmsgread
+mkeys
+getat
+startindex
+startindex
+idsmarkedread
+prtrue
+nssucceeded
+rv
+navigatefrompos
+nsmsgnavigationtype
+nextunreadmessage
+startindex
+presultkey
+presultindex
+pthreadindex
+prtrue
+nsmsgnavigationtype
+togglethreadkilled
+prbool
+resultkilled
+startindex
+nsmsgviewindexnone
+nsassertion
+startindex
+nsmsgviewindexnone
+threadindex
+threadindexofmsg
+getat
+startindex
+startindex
+toggleignored
+startindex
+resultkilled
+resultkilled
+threadindex
+nsmsgviewindexnone
+collapsebyindex
+threadindex
+nsnull
+navigatefrompos
+nsmsgnavigationtype
+nextunreadthread
+threadindex
+presultkey
+presultindex
+pthreadindex
+prtrue
+presultindex
+startindex
+presultkey
+mkeys
+getat
+presultindex
+nsok
+nsmsgnavigationtype
+latermessage
+startindex
+nsmsgviewindexnone
+nsassertion
+unexpected
+mdb
+marklater
+mkeys
+getat
+startindex
+llzero
+navigatefrompos
+nsmsgnavigationtype
+nextunreadmessage
+startindex
+presultkey
+presultindex
+pthreadindex
+prtrue
+nsassertion
+unsupported
+motion
+nsok
+nsimethodimp
+nsmsgdbview
+navigatestatus
+nsmsgnavigationtypevalue
+motion
+prbool
+retval
+nsensureargpointer
+retval
+prbool
+enable
+prfalse
+nsresult
+rv
+nserrorfailure
+nsmsgkey
+resultkey
+nsmsgkeynone
+print
+index
+nsmsgviewindex
+resultindex
+nsmsgviewindexnone
+rv
+mtreeselection
+getcurrentindex
+index
+motion
+nsmsgnavigationtype
+firstmessage
+nsmsgnavigationtype
+lastmessage
+getsize
+enable
+prtrue
+nsmsgnavigationtype
+nextmessage
+isvalidindex
+index
+index
+getsize
+enable
+prtrue
+nsmsgnavigationtype
+previousmessage
+isvalidindex
+index
+index
+getsize
+enable
+prtrue
+nsmsgnavigationtype
+firstflagged
+rv
+findfirstflagged
+resultindex
+enable
+nssucceeded
+rv
+resultindex
+nsmsgviewindexnone
+nsmsgnavigationtype
+nextflagged
+rv
+findnextflagged
+index
+resultindex
+enable
+nssucceeded
+rv
+resultindex
+nsmsgviewindexnone
+nsmsgnavigationtype
+previousflagged
+isvalidindex
+index
+index
+rv
+findprevflagged
+index
+resultindex
+enable
+nssucceeded
+rv
+resultindex
+nsmsgviewindexnone
+nsmsgnavigationtype
+firstnew
+rv
+findfirstnew
+resultindex
+enable
+nssucceeded
+rv
+resultindex
+nsmsgviewindexnone
+nsmsgnavigationtype
+latermessage
+enable
+getsize
+nsmsgnavigationtype
+readmore
+enable
+prtrue
+nsmsgnavigationtype
+nextfolder
+nsmsgnavigationtype
+nextunreadthread
+nsmsgnavigationtype
+nextunreadmessage
+nsmsgnavigationtype
+togglethreadkilled
+enable
+prtrue
+nsmsgnavigationtype
+previousunreadmessage
+isvalidindex
+index
+nsmsgkey
+threadid
+rv
+findprevunread
+mkeys
+getat
+index
+resultkey
+threadid
+enable
+resultkey
+nsmsgkeynone
+nsassertion
+unexpected
+retval
+enable
+nsok
+nsresult
+nsmsgdbview
+findnextflagged
+nsmsgviewindex
+startindex
+nsmsgviewindex
+presultindex
+nsmsgviewindex
+lastindex
+nsmsgviewindex
+getsize
+nsmsgviewindex
+curindex
+presultindex
+nsmsgviewindexnone
+getsize
+curindex
+startindex
+curindex
+lastindex
+curindex
+pruint
+flags
+mflags
+getat
+curindex
+flags
+msgflagmarked
+presultindex
+curindex
+nsok
+nsresult
+nsmsgdbview
+findfirstnew
+nsmsgviewindex
+presultindex
+mdb
+nsmsgkey
+firstnewkey
+mdb
+getfirstnew
+firstnewkey
+presultindex
+presultindex
+findkey
+firstnewkey
+prtrue
+nsok
+nsresult
+nsmsgdbview
+findnextunread
+nsmsgkey
+startid
+nsmsgkey
+presultkey
+nsmsgkey
+resultthreadid
+nsmsgviewindex
+startindex
+findviewindex
+startid
+nsmsgviewindex
+curindex
+startindex
+nsmsgviewindex
+lastindex
+nsmsgviewindex
+getsize
+nsresult
+rv
+nsok
+startindex
+nsmsgviewindexnone
+nsmsgmessagenotfound
+presultkey
+nsmsgkeynone
+resultthreadid
+resultthreadid
+nsmsgkeynone
+curindex
+lastindex
+presultkey
+nsmsgkeynone
+curindex
+flags
+mflags
+getat
+curindex
+flags
+msgflagread
+curindex
+startindex
+presultkey
+mkeys
+getat
+curindex
+msorttype
+nsmsgviewsorttype
+bythread
+flags
+msgviewflagisthread
+flags
+msgflagelided
+nscomptr
+nsimsgthread
+thread
+rv
+getthreadfrommsgindex
+curindex
+getteraddrefs
+thread
+nssucceeded
+rv
+thread
+nscomptr
+nsimsgdbhdr
+unreadchild
+rv
+thread
+getfirstunreadchild
+getteraddrefs
+unreadchild
+nssucceeded
+rv
+unreadchild
+unreadchild
+getmessagekey
+presultkey
+nssucceeded
+rv
+presultkey
+nsmsgkeynone
+presultkey
+nsmsgkeynone
+resultthreadid
+resultthreadid
+nsmsgkeynone
+nsassertion
+fix
+rv
+nsresult
+nsmsgdbview
+findprevunread
+nsmsgkey
+startkey
+nsmsgkey
+presultkey
+nsmsgkey
+resultthreadid
+nsmsgviewindex
+startindex
+findviewindex
+startkey
+nsmsgviewindex
+curindex
+startindex
+nsresult
+rv
+nsmsgmessagenotfound
+startindex
+nsmsgviewindexnone
+nsmsgmessagenotfound
+presultkey
+nsmsgkeynone
+resultthreadid
+resultthreadid
+nsmsgkeynone
+curindex
+presultkey
+nsmsgkeynone
+curindex
+pruint
+flags
+mflags
+getat
+curindex
+curindex
+startindex
+flags
+msgviewflagisthread
+flags
+msgflagelided
+nsassertion
+fix
+nssucceeded
+rv
+presultkey
+nsmsgkeynone
+flags
+msgflagread
+curindex
+startindex
+presultkey
+mkeys
+getat
+curindex
+rv
+nsok
+presultkey
+nsmsgkeynone
+resultthreadid
+resultthreadid
+nsmsgkeynone
+nsassertion
+fix
+rv
+nsresult
+nsmsgdbview
+findfirstflagged
+nsmsgviewindex
+presultindex
+findnextflagged
+presultindex
+nsresult
+nsmsgdbview
+findprevflagged
+nsmsgviewindex
+startindex
+nsmsgviewindex
+presultindex
+nsmsgviewindex
+curindex
+presultindex
+nsmsgviewindexnone
+getsize
+isvalidindex
+startindex
+curindex
+startindex
+curindex
+curindex
+pruint
+flags
+mflags
+getat
+curindex
+flags
+msgflagmarked
+presultindex
+curindex
+curindex
+nsok
+prbool
+nsmsgdbview
+isvalidindex
+nsmsgviewindex
+index
+index
+index
+nsmsgviewindex
+mkeys
+getsize
+nsresult
+nsmsgdbview
+orextraflag
+nsmsgviewindex
+index
+pruint
+orflag
+pruint
+flag
+isvalidindex
+index
+nsmsginvaliddbviewindex
+flag
+mflags
+index
+flag
+orflag
+mflags
+index
+flag
+onextraflagchanged
+index
+flag
+nsok
+nsresult
+nsmsgdbview
+andextraflag
+nsmsgviewindex
+index
+pruint
+andflag
+pruint
+flag
+isvalidindex
+index
+nsmsginvaliddbviewindex
+flag
+mflags
+index
+flag
+andflag
+mflags
+index
+flag
+onextraflagchanged
+index
+flag
+nsok
+nsresult
+nsmsgdbview
+setextraflag
+nsmsgviewindex
+index
+pruint
+extraflag
+isvalidindex
+index
+nsmsginvaliddbviewindex
+mflags
+index
+extraflag
+onextraflagchanged
+index
+extraflag
+nsok
+nsresult
+nsmsgdbview
+toggleignored
+nsmsgviewindex
+indices
+print
+numindices
+prbool
+resulttogglestate
+nsresult
+rv
+nsok
+nscomptr
+nsimsgthread
+thread
+numindices
+nsmsgviewindex
+threadindex
+getthreadfrommsgindex
+indices
+getteraddrefs
+thread
+thread
+rv
+togglethreadignored
+thread
+threadindex
+resulttogglestate
+pruint
+threadflags
+thread
+getflags
+threadflags
+resulttogglestate
+threadflags
+msgflagignored
+prtrue
+prfalse
+numindices
+nsquicksort
+indices
+numindices
+nsmsgviewindex
+compareviewindices
+nsnull
+curindex
+numindices
+curindex
+curindex
+nsmsgviewindex
+threadindex
+threadindex
+getthreadfrommsgindex
+indices
+getteraddrefs
+thread
+rv
+nsmsgviewindex
+nsmsgdbview
+getthreadfrommsgindex
+nsmsgviewindex
+index
+nsimsgthread
+threadhdr
+nsmsgkey
+msgkey
+getat
+index
+nsmsgviewindex
+threadindex
+nsensurearg
+threadhdr
+nsresult
+rv
+getthreadcontainingindex
+index
+threadhdr
+nsensuresuccess
+rv
+nsmsgviewindexnone
+threadhdr
+nsnull
+nsmsgviewindexnone
+nsmsgkey
+threadkey
+threadhdr
+getthreadkey
+threadkey
+msgkey
+threadkey
+threadindex
+getindexoffirstdisplayedkeyinthread
+threadhdr
+threadindex
+index
+threadindex
+nsresult
+nsmsgdbview
+togglethreadignored
+nsimsgthread
+thread
+nsmsgviewindex
+threadindex
+nsresult
+rv
+isvalidindex
+threadindex
+nsmsginvaliddbviewindex
+pruint
+threadflags
+thread
+getflags
+threadflags
+rv
+setthreadignored
+thread
+threadindex
+threadflags
+msgflagignored
+rv
+nsresult
+nsmsgdbview
+togglethreadwatched
+nsimsgthread
+thread
+nsmsgviewindex
+index
+nsresult
+rv
+isvalidindex
+index
+nsmsginvaliddbviewindex
+pruint
+threadflags
+thread
+getflags
+threadflags
+rv
+setthreadwatched
+thread
+index
+threadflags
+msgflagwatched
+rv
+nsresult
+nsmsgdbview
+togglewatched
+nsmsgviewindex
+indices
+print
+numindices
+nsresult
+rv
+nscomptr
+nsimsgthread
+thread
+numindices
+nsmsgviewindex
+threadindex
+getthreadfrommsgindex
+indices
+getteraddrefs
+thread
+threadindex
+nsmsgviewindexnone
+rv
+togglethreadwatched
+thread
+threadindex
+numindices
+nsquicksort
+indices
+numindices
+nsmsgviewindex
+compareviewindices
+nsnull
+curindex
+numindices
+curindex
+curindex
+nsmsgviewindex
+threadindex
+threadindex
+getthreadfrommsgindex
+indices
+getteraddrefs
+thread
+nsok
+nsresult
+nsmsgdbview
+setthreadignored
+nsimsgthread
+thread
+nsmsgviewindex
+threadindex
+prbool
+ignored
+nsresult
+rv
+isvalidindex
+threadindex
+nsmsginvaliddbviewindex
+rv
+mdb
+markthreadignored
+thread
+mkeys
+threadindex
+ignored
+ignored
+orextraflag
+threadindex
+msgflagignored
+andextraflag
+threadindex
+msgflagignored
+notechange
+threadindex
+nsmsgviewnotificationcode
+changed
+ignored
+nsmsgkeyarray
+idsmarkedread
+markthreadread
+thread
+threadindex
+idsmarkedread
+prtrue
+rv
+nsresult
+nsmsgdbview
+setthreadwatched
+nsimsgthread
+thread
+nsmsgviewindex
+index
+prbool
+watched
+nsresult
+rv
+isvalidindex
+index
+nsmsginvaliddbviewindex
+rv
+mdb
+markthreadwatched
+thread
+mkeys
+index
+watched
+watched
+orextraflag
+index
+msgflagwatched
+andextraflag
+index
+msgflagwatched
+notechange
+index
+nsmsgviewnotificationcode
+changed
+rv
+nsimethodimp
+nsmsgdbview
+getmsgfolder
+nsimsgfolder
+amsgfolder
+nsensureargpointer
+amsgfolder
+nsifaddref
+amsgfolder
+mfolder
+nsok
+nsimethodimp
+nsmsgdbview
+getnumselected
+pruint
+numselected
+nsensureargpointer
+numselected
+mtreeselection
+numselected
+nsok
+mtreeselection
+getcount
+print
+numselected
+nsimethodimp
+nsmsgdbview
+getmsgtoselectafterdelete
+nsmsgviewindex
+msgtoselectafterdelete
+nsensureargpointer
+msgtoselectafterdelete
+msgtoselectafterdelete
+nsmsgviewindexnone
+mtreeselection
+msgtoselectafterdelete
+findviewindex
+mcurrentlydisplayedmsgkey
+nsok
+print
+selectioncount
+print
+startrange
+print
+endrange
+nsresult
+rv
+mtreeselection
+getrangecount
+selectioncount
+print
+selectioncount
+rv
+mtreeselection
+getrangeat
+startrange
+endrange
+msgtoselectafterdelete
+prmin
+msgtoselectafterdelete
+startrange
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+doqueryinterface
+mfolder
+prbool
+thisisimapfolder
+imapfolder
+nsnull
+thisisimapfolder
+getimapdeletemodel
+nsnull
+mdeletemodel
+nsmsgimapdeletemodels
+imapdelete
+selectioncount
+endrange
+startrange
+msgtoselectafterdelete
+nsmsgviewindexnone
+msgtoselectafterdelete
+nsok
+nsimethodimp
+nsmsgdbview
+getremoverowonmoveordelete
+prbool
+aremoverowonmoveordelete
+nsensureargpointer
+aremoverowonmoveordelete
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+doqueryinterface
+mfolder
+imapfolder
+aremoverowonmoveordelete
+prtrue
+nsok
+getimapdeletemodel
+nsnull
+aremoverowonmoveordelete
+mdeletemodel
+nsmsgimapdeletemodels
+imapdelete
+nsok
+nsimethodimp
+nsmsgdbview
+getcurrentlydisplayedmessage
+nsmsgviewindex
+currentlydisplayedmessage
+nsensureargpointer
+currentlydisplayedmessage
+currentlydisplayedmessage
+findviewindex
+mcurrentlydisplayedmsgkey
+nsok
+nsimethodimp
+nsmsgdbview
+gethdrforfirstselectedmessage
+nsimsgdbhdr
+hdr
+nsensureargpointer
+hdr
+nsresult
+rv
+nsmsgkey
+key
+rv
+getkeyforfirstselectedmessage
+key
+nsfailed
+rv
+rv
+rv
+mdb
+getmsghdrforkey
+key
+hdr
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsmsgdbview
+geturiforfirstselectedmessage
+uri
+nsensureargpointer
+uri
+ifdef
+debugmscott
+printf
+inside
+geturiforfirstselectedmessage
+endif
+nsresult
+rv
+nsmsgkey
+key
+rv
+getkeyforfirstselectedmessage
+key
+nsfailed
+rv
+rv
+rv
+generateuriformsgkey
+key
+mfolder
+uri
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsmsgdbview
+ondeletecompleted
+prbool
+asucceeded
+mdeletingrows
+asucceeded
+pruint
+numindices
+mindicestonotechange
+getsize
+numindices
+numindices
+mindicestonotechange
+quicksort
+compareviewindices
+pruint
+numindices
+notechange
+mindicestonotechange
+nsmsgviewnotificationcode
+insertordelete
+mindicestonotechange
+removeall
+mdeletingrows
+prfalse
+nsok
+nsimethodimp
+nsmsgdbview
+getdb
+nsimsgdatabase
+adb
+nsensureargpointer
+adb
+nsifaddref
+adb
+mdb
+nsok
+prbool
+nsmsgdbview
+offlinemsgselected
+nsmsgviewindex
+indices
+print
+numindices
+nscomptr
+nsimsglocalmailfolder
+localfolder
+doqueryinterface
+mfolder
+localfolder
+prtrue
+nsmsgviewindex
+index
+index
+nsmsgviewindex
+numindices
+index
+pruint
+flags
+mflags
+getat
+indices
+index
+flags
+msgflagoffline
+prtrue
+prfalse
+nsimethodimp
+nsmsgdbview
+getkeyforfirstselectedmessage
+nsmsgkey
+key
+nsensureargpointer
+key
+mtreeselection
+key
+mcurrentlydisplayedmsgkey
+nsok
+print
+startrange
+print
+endrange
+nsresult
+rv
+mtreeselection
+getrangeat
+startrange
+endrange
+nsfailed
+rv
+rv
+startrange
+startrange
+getsize
+key
+mkeys
+getat
+startrange
+nserrorunexpected
+nsok
+nsresult
+nsmsgdbview
+getfolders
+nsisupportsarray
+afolders
+nsensureargpointer
+afolders
+afolders
+nsnull
+nsok
+nsresult
+nsmsgdbview
+adjustrowcount
+print
+rowcountbeforesort
+print
+rowcountaftersort
+print
+rowchange
+rowcountbeforesort
+rowcountaftersort
+rowchange
+pruint
+numselected
+getnumselected
+numselected
+nsassertion
+numselected
+it
+is
+save
+to
+call
+adjustrowcount
+when
+you
+have
+selection
+mtree
+mtree
+rowcountchanged
+rowchange
+nsok
+nsresult
+nsmsgdbview
+getimapdeletemodel
+nsimsgfolder
+folder
+nsresult
+rv
+nsok
+nscomptr
+nsimsgincomingserver
+server
+folder
+folder
+getserver
+getteraddrefs
+server
+mfolder
+mfolder
+getserver
+getteraddrefs
+server
+nscomptr
+nsiimapincomingserver
+imapserver
+doqueryinterface
+server
+rv
+nssucceeded
+rv
+imapserver
+imapserver
+getdeletemodel
+mdeletemodel
+rv
+nsimethodimp
+nsmsgdbview
+candropon
+print
+index
+prbool
+retval
+nsensureargpointer
+retval
+retval
+prfalse
+nsok
+nsimethodimp
+nsmsgdbview
+candropbeforeafter
+print
+index
+prbool
+before
+prbool
+retval
+nsensureargpointer
+retval
+retval
+prfalse
+nsok
+nsimethodimp
+nsmsgdbview
+drop
+print
+row
+print
+orient
+nsok
+nsimethodimp
+nsmsgdbview
+issorted
+prbool
+retval
+retval
+prfalse
+nsok
+nsimethodimp
+nsmsgdbview
+selectmsgbykey
+nsmsgkey
+akey
+nsassertion
+akey
+nsmsgkeynone
+bad
+key
+akey
+nsmsgkeynone
+nsok
+nsmsgkeyarray
+preservedselection
+nsresult
+rv
+saveandclearselection
+preservedselection
+nsensuresuccess
+rv
+rv
+nsmsgkeyarray
+keyarray
+keyarray
+add
+akey
+rv
+restoreselection
+keyarray
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsmsgdbview
+clonedbview
+nsimessenger
+amessengerinstance
+nsimsgwindow
+amsgwindow
+nsimsgdbviewcommandupdater
+acmdupdater
+nsimsgdbview
+retval
+nsmsgdbview
+newmsgdbview
+nsnewxpcom
+newmsgdbview
+nsmsgdbview
+newmsgdbview
+nserroroutofmemory
+nsresult
+rv
+copydbview
+newmsgdbview
+amessengerinstance
+amsgwindow
+acmdupdater
+nsensuresuccess
+rv
+rv
+nsifaddref
+retval
+newmsgdbview
+nsok
+nsresult
+nsmsgdbview
+copydbview
+nsmsgdbview
+anewmsgdbview
+nsimessenger
+amessengerinstance
+nsimsgwindow
+amsgwindow
+nsimsgdbviewcommandupdater
+acmdupdater
+nsensureargpointer
+anewmsgdbview
+anewmsgdbview
+mmsgwindow
+amsgwindow
+anewmsgdbview
+mmessengerinstance
+amessengerinstance
+anewmsgdbview
+mcommandupdater
+acmdupdater
+anewmsgdbview
+mfolder
+mfolder
+anewmsgdbview
+mviewflags
+mviewflags
+anewmsgdbview
+msortorder
+msortorder
+anewmsgdbview
+msorttype
+msorttype
+anewmsgdbview
+mdb
+mdb
+anewmsgdbview
+mdateformater
+mdateformater
+mdb
+anewmsgdbview
+mdb
+addlistener
+anewmsgdbview
+anewmsgdbview
+misnews
+misnews
+anewmsgdbview
+mheaderparser
+mheaderparser
+anewmsgdbview
+mdeletemodel
+mdeletemodel
+anewmsgdbview
+mtreatrecipientasauthor
+mtreatrecipientasauthor
+anewmsgdbview
+mflags
+copyarray
+mflags
+anewmsgdbview
+mlevels
+copyarray
+mlevels
+anewmsgdbview
+mkeys
+copyarray
+mkeys
+nsok
+nsimethodimp
+nsmsgdbview
+getsearchsession
+nsimsgsearchsession
+asession
+nsassertion
+prfalse
+should
+be
+overriden
+by
+child
+nserrornotimplemented
+nsimethodimp
+nsmsgdbview
+setsearchsession
+nsimsgsearchsession
+asession
+nsassertion
+prfalse
+should
+be
+overriden
+by
+child
+nserrornotimplemented
+nsimethodimp
+nsmsgdbview
+getsupportsthreading
+prbool
+aresult
+nsensureargpointer
+aresult
+aresult
+prfalse
+nsok
+nsimethodimp
+nsmsgdbview
+findindexfromkey
+nsmsgkey
+amsgkey
+prbool
+aexpand
+nsmsgviewindex
+aindex
+nsensureargpointer
+aindex
+aindex
+findkey
+amsgkey
+aexpand
+nsok
+getdateformatpref
+nscomptr
+nsiprefbranch
+prefbranch
+preflocalname
+nsdateformatselector
+format
+print
+nformatsetting
+nsresult
+result
+prefbranch
+getintpref
+preflocalname
+nformatsetting
+nssucceeded
+result
+nsdateformatselector
+res
+nformatsetting
+res
+kdateformatnone
+res
+kdateformatweekday
+format
+res
+nsresult
+nsmsgdbview
+initdisplayformats
+mdateformatdefault
+kdateformatshort
+mdateformatthisweek
+kdateformatshort
+mdateformattoday
+kdateformatnone
+nsresult
+rv
+nsok
+nscomptr
+nsiprefservice
+prefs
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefbranch
+dateformatprefs
+rv
+prefs
+getbranch
+mail
+ui
+display
+dateformat
+getteraddrefs
+dateformatprefs
+nsensuresuccess
+rv
+rv
+getdateformatpref
+dateformatprefs
+mdateformatdefault
+getdateformatpref
+dateformatprefs
+thisweek
+mdateformatthisweek
+getdateformatpref
+dateformatprefs
+today
+mdateformattoday
+rv nsresult
\ No newline at end of file
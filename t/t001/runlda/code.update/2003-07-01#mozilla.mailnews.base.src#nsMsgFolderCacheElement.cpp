@@ -0,0 +1,179 @@
+msgcore
+nsmsgfoldercacheelement
+prmem
+nsisupportsobsolete
+nsmsgfoldercacheelement
+nsmsgfoldercacheelement
+mmdbrow
+nsnull
+mowningcache
+nsnull
+mfolderkey
+nsnull
+nsmsgfoldercacheelement
+nsmsgfoldercacheelement
+nsifrelease
+mmdbrow
+prfreeif
+mfolderkey
+nsimplisupports
+nsmsgfoldercacheelement
+nsimsgfoldercacheelement
+nsimplgetterstr
+nsmsgfoldercacheelement
+getkey
+mfolderkey
+nsimplsetterstr
+nsmsgfoldercacheelement
+setkey
+mfolderkey
+nsmsgfoldercacheelement
+setowningcache
+nsmsgfoldercache
+owningcache
+mowningcache
+owningcache
+nsimethodimp
+nsmsgfoldercacheelement
+getstringproperty
+propertyname
+result
+propertyname
+result
+mmdbrow
+mowningcache
+nserrornullpointer
+mdbtoken
+propertytoken
+nsresult
+ret
+mowningcache
+getstore
+stringtotoken
+mowningcache
+getenv
+propertyname
+propertytoken
+ret
+nsok
+ret
+mowningcache
+rowcellcolumntocharptr
+mmdbrow
+propertytoken
+result
+ret
+nsimethodimp
+nsmsgfoldercacheelement
+getintproperty
+propertyname
+print
+aresult
+propertyname
+aresult
+mmdbrow
+nserrornullpointer
+resultstr
+nsnull
+getstringproperty
+propertyname
+resultstr
+resultstr
+nserrornullpointer
+print
+result
+resultstr
+result
+print
+unhex
+unhex
+result
+result
+unhex
+prfreeif
+resultstr
+aresult
+result
+nsok
+nsimethodimp
+nsmsgfoldercacheelement
+setstringproperty
+propertyname
+propertyvalue
+propertyname
+mmdbrow
+nserrornullpointer
+nsresult
+err
+nsok
+mdbtoken
+propertytoken
+mowningcache
+err
+mowningcache
+getstore
+stringtotoken
+mowningcache
+getenv
+propertyname
+propertytoken
+err
+nsok
+mdbyarn
+yarn
+yarn
+myarngrow
+mmdbrow
+yarn
+myarnbuf
+propertyvalue
+yarn
+myarnsize
+plstrlen
+yarn
+myarnbuf
+yarn
+myarnfill
+yarn
+myarnsize
+yarn
+myarnform
+err
+mmdbrow
+addcolumn
+mowningcache
+getenv
+propertytoken
+yarn
+err
+err
+nsimethodimp
+nsmsgfoldercacheelement
+setintproperty
+propertyname
+print
+propertyvalue
+propertyname
+mmdbrow
+nserrornullpointer
+nscautostring
+propertystr
+propertystr
+appendint
+propertyvalue
+setstringproperty
+propertyname
+propertystr
+get
+nsmsgfoldercacheelement
+setmdbrow
+nsimdbrow
+row
+mmdbrow
+nsrelease
+mmdbrow
+mmdbrow
+row
+row
+nsaddref
+row
\ No newline at end of file
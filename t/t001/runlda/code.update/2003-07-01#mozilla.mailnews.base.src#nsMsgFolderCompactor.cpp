@@ -0,0 +1,1234 @@
+msgcore
+nscomptr
+nsxpidlstring
+nsimsgfolder
+nsimsghdr
+nsifilespec
+nsistreamlistener
+nsimsgmessageservice
+nslocalfoldersummaryspec
+nsfilestream
+nsmsgdbcid
+nsmsgutils
+nsirdfservice
+nsidbfolderinfo
+nsrdfcid
+nsidocshell
+nsmsgfoldercompactor
+nsiprompt
+nsiinterfacerequestorutils
+nsimsglocalmailfolder
+nsmsgin
+prprf
+nsmsglocalfolderhdrs
+nsdefinecid
+kcmaildb
+nsmaildbcid
+nsdefinecid
+krdfservicecid
+nsrdfservicecid
+nsimplisupports
+nsfoldercompactstate
+nsimsgfoldercompactor
+nsirequestobserver
+nsistreamlistener
+nsicopymessagestreamlistener
+nsiurllistener
+nsfoldercompactstate
+nsfoldercompactstate
+mbasemessageuri
+nsnull
+mfilestream
+nsnull
+msize
+mcurindex
+mstatus
+nsok
+mcompactall
+prfalse
+mcompactofflinealso
+prfalse
+mparsingfolder
+prfalse
+mfolderindex
+mstartofmsg
+prtrue
+mneedstatusline
+prfalse
+nsfoldercompactstate
+nsfoldercompactstate
+closeoutputstream
+mbasemessageuri
+nscrt
+free
+mbasemessageuri
+mbasemessageuri
+nsnull
+nsfailed
+mstatus
+cleanuptempfilesaftererror
+nsfoldercompactstate
+closeoutputstream
+mfilestream
+mfilestream
+close
+mfilestream
+mfilestream
+nsnull
+nsfoldercompactstate
+cleanuptempfilesaftererror
+closeoutputstream
+mdb
+mdb
+forceclosed
+nslocalfoldersummaryspec
+summaryspec
+mfilespec
+mfilespec
+delete
+prfalse
+summaryspec
+delete
+prfalse
+nsresult
+nsfoldercompactstate
+buildmessageuri
+baseuri
+pruint
+key
+nscstring
+uri
+uri
+append
+baseuri
+uri
+append
+uri
+appendint
+key
+nsok
+nsresult
+nsfoldercompactstate
+initdb
+nsimsgdatabase
+db
+nscomptr
+nsimsgdatabase
+maildbfactory
+nscomptr
+nsifilespec
+newpathspec
+db
+listallkeys
+mkeyarray
+nsresult
+rv
+nsnewfilespecwithspec
+mfilespec
+getteraddrefs
+newpathspec
+rv
+nscomponentmanager
+createinstance
+kcmaildb
+nsnull
+nsgetiid
+nsimsgdatabase
+getteraddrefs
+maildbfactory
+nssucceeded
+rv
+nsresult
+folderopen
+maildbfactory
+open
+newpathspec
+prtrue
+prfalse
+getteraddrefs
+mdb
+nsfailed
+folderopen
+folderopen
+nsmsgerrorfoldersummaryoutofdate
+folderopen
+nsmsgerrorfoldersummarymissing
+rv
+maildbfactory
+open
+newpathspec
+prtrue
+prtrue
+getteraddrefs
+mdb
+rv
+nsimethodimp
+nsfoldercompactstate
+compactall
+nsisupportsarray
+aarrayoffolderstocompact
+nsimsgwindow
+amsgwindow
+prbool
+acompactofflinealso
+nsisupportsarray
+aofflinefolderarray
+nsresult
+rv
+nsok
+aarrayoffolderstocompact
+mfolderarray
+doqueryinterface
+aarrayoffolderstocompact
+rv
+nsfailed
+rv
+mfolderarray
+rv
+mcompactall
+prtrue
+mcompactofflinealso
+acompactofflinealso
+mcompactofflinealso
+mofflinefolderarray
+doqueryinterface
+aofflinefolderarray
+mfolderindex
+nscomptr
+nsimsgfolder
+firstfolder
+doqueryelementat
+mfolderarray
+mfolderindex
+rv
+nssucceeded
+rv
+firstfolder
+compact
+firstfolder
+amsgwindow
+rv
+nsimethodimp
+nsfoldercompactstate
+compact
+nsimsgfolder
+folder
+nsimsgwindow
+amsgwindow
+mwindow
+amsgwindow
+nsresult
+rv
+nscomptr
+nsimsgdatabase
+db
+nscomptr
+nsidbfolderinfo
+folderinfo
+nscomptr
+nsimsgdatabase
+maildbfactory
+nscomptr
+nsifilespec
+pathspec
+nsxpidlcstring
+basemessageuri
+nscomptr
+nsimsglocalmailfolder
+localfolder
+doqueryinterface
+folder
+rv
+nssucceeded
+rv
+localfolder
+rv
+localfolder
+getdatabaseworeparse
+getteraddrefs
+db
+nsfailed
+rv
+db
+rv
+nsmsgerrorfoldersummarymissing
+rv
+nsmsgerrorfoldersummaryoutofdate
+mfolder
+folder
+mparsingfolder
+prtrue
+rv
+localfolder
+parsefolder
+mwindow
+rv
+prbool
+valid
+rv
+db
+getsummaryvalid
+valid
+valid
+folder
+notifycompactcompleted
+mcompactall
+compactnextfolder
+nsok
+rv
+folder
+getmsgdatabase
+nsnull
+getteraddrefs
+db
+nsensuresuccess
+rv
+rv
+rv
+folder
+getpath
+getteraddrefs
+pathspec
+nsensuresuccess
+rv
+rv
+rv
+folder
+getbasemessageuri
+gettercopies
+basemessageuri
+nsensuresuccess
+rv
+rv
+rv
+init
+folder
+basemessageuri
+db
+pathspec
+mwindow
+nsensuresuccess
+rv
+rv
+prbool
+islocked
+mfolder
+getlocked
+islocked
+islocked
+nscomptr
+nsisupports
+supports
+doqueryinterface
+nsstaticcast
+nsimsgfoldercompactor
+mfolder
+acquiresemaphore
+supports
+startcompacting
+mfolder
+notifycompactcompleted
+mfolder
+throwalertmsg
+compactfolderdeniedlock
+mwindow
+cleanuptempfilesaftererror
+mcompactall
+compactnextfolder
+nsok
+nsresult
+nsfoldercompactstate
+showstatusmsg
+prunichar
+amsg
+nscomptr
+nsimsgstatusfeedback
+statusfeedback
+mwindow
+mwindow
+getstatusfeedback
+getteraddrefs
+statusfeedback
+statusfeedback
+amsg
+statusfeedback
+showstatusstring
+amsg
+nsok
+nsresult
+nsfoldercompactstate
+init
+nsimsgfolder
+folder
+basemsguri
+nsimsgdatabase
+db
+nsifilespec
+pathspec
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+mfolder
+folder
+mbasemessageuri
+nscrt
+strdup
+basemsguri
+mbasemessageuri
+nserroroutofmemory
+pathspec
+getfilespec
+mfilespec
+prbool
+ignored
+mfilespec
+resolvesymlink
+ignored
+mfilespec
+setleafname
+nstmp
+mfilespec
+makeunique
+mwindow
+amsgwindow
+mkeyarray
+removeall
+initdb
+db
+msize
+mkeyarray
+getsize
+mcurindex
+mfilestream
+nsoutputfilestream
+mfilespec
+mfilestream
+mfolder
+throwalertmsg
+compactfolderwritefailed
+mwindow
+rv
+nserroroutofmemory
+rv
+getmessageservicefromuri
+basemsguri
+getteraddrefs
+mmessageservice
+nsfailed
+rv
+mstatus
+rv
+release
+rv
+nsfoldercompactstate
+showcompactingstatusmsg
+nsxpidlstring
+statusstring
+nsresult
+rv
+mfolder
+getstringwithfoldernamefrombundle
+compactingfolder
+gettercopies
+statusstring
+statusstring
+nssucceeded
+rv
+showstatusmsg
+statusstring
+nsimethodimp
+nsfoldercompactstate
+onstartrunningurl
+nsiuri
+url
+nsok
+nsimethodimp
+nsfoldercompactstate
+onstoprunningurl
+nsiuri
+url
+nsresult
+status
+mparsingfolder
+mparsingfolder
+prfalse
+nssucceeded
+status
+status
+compact
+mfolder
+mwindow
+mcompactall
+compactnextfolder
+nsok
+nsresult
+nsfoldercompactstate
+startcompacting
+nsresult
+rv
+nsok
+msize
+showcompactingstatusmsg
+addref
+rv
+mmessageservice
+copymessages
+mkeyarray
+mfolder
+prfalse
+nsnull
+mwindow
+nsnull
+finishcompact
+rv
+nsresult
+nsfoldercompactstate
+finishcompact
+nsresult
+rv
+nsok
+nscomptr
+nsifilespec
+pathspec
+nscomptr
+nsifolder
+parent
+nscomptr
+nsimsgfolder
+parentfolder
+nscomptr
+nsidbfolderinfo
+folderinfo
+nsfilespec
+filespec
+rv
+mfolder
+getpath
+getteraddrefs
+pathspec
+pathspec
+getfilespec
+filespec
+prbool
+ignored
+filespec
+resolvesymlink
+ignored
+nslocalfoldersummaryspec
+summaryspec
+filespec
+nsxpidlcstring
+leafname
+nscautostring
+dbname
+summaryspec
+getleafname
+pathspec
+getleafname
+gettercopies
+leafname
+mfilestream
+flush
+mfilestream
+close
+mfilestream
+mfilestream
+nsnull
+mdb
+setsummaryvalid
+prtrue
+mdb
+commit
+nsmsgdbcommittype
+klargecommit
+mdb
+forceclosed
+mdb
+nsnull
+nslocalfoldersummaryspec
+newsummaryspec
+mfilespec
+nscomptr
+nsidbfolderinfo
+transferinfo
+mfolder
+getdbtransferinfo
+getteraddrefs
+transferinfo
+mfolder
+forcedbclosed
+filespec
+delete
+prfalse
+summaryspec
+delete
+prfalse
+mfilespec
+rename
+leafname
+get
+newsummaryspec
+rename
+dbname
+get
+rv
+releasefolderlock
+nsassertion
+nssucceeded
+rv
+folder
+lock
+released
+successfully
+mfolder
+setdbtransferinfo
+transferinfo
+mfolder
+notifycompactcompleted
+mcompactall
+rv
+compactnextfolder
+rv
+nsresult
+nsfoldercompactstate
+releasefolderlock
+nsresult
+result
+nsok
+mfolder
+result
+prbool
+havesemaphore
+nscomptr
+nsisupports
+supports
+doqueryinterface
+nsstaticcast
+nsimsgfoldercompactor
+result
+mfolder
+testsemaphore
+supports
+havesemaphore
+nssucceeded
+result
+havesemaphore
+result
+mfolder
+releasesemaphore
+supports
+result
+nsresult
+nsfoldercompactstate
+compactnextfolder
+nsresult
+rv
+nsok
+mfolderindex
+pruint
+cnt
+rv
+mfolderarray
+count
+cnt
+nsensuresuccess
+rv
+rv
+mfolderindex
+cnt
+mcompactofflinealso
+nscomptr
+nsimsgfolder
+folder
+doqueryelementat
+mfolderarray
+mfolderindex
+rv
+nssucceeded
+rv
+folder
+folder
+compactallofflinestores
+mwindow
+mofflinefolderarray
+rv
+nscomptr
+nsimsgfolder
+folder
+doqueryelementat
+mfolderarray
+mfolderindex
+rv
+nssucceeded
+rv
+folder
+rv
+compact
+folder
+mwindow
+rv
+nsresult
+nsfoldercompactstate
+getmessage
+nsimsgdbhdr
+message
+getmsgdbhdrfromuri
+mmessageuri
+get
+message
+nsimethodimp
+nsfoldercompactstate
+onstartrequest
+nsirequest
+request
+nsisupports
+ctxt
+startmessage
+nsimethodimp
+nsfoldercompactstate
+onstoprequest
+nsirequest
+request
+nsisupports
+ctxt
+nsresult
+status
+nsresult
+rv
+status
+nscomptr
+nsimsgdbhdr
+msghdr
+nscomptr
+nsimsgdbhdr
+newmsghdr
+nsfailed
+rv
+done
+endcopy
+nsnull
+status
+mcurindex
+msize
+msghdr
+nsnull
+newmsghdr
+nsnull
+finishcompact
+release
+nssucceeded
+status
+mfolder
+notifycompactcompleted
+cleanuptempfilesaftererror
+releasefolderlock
+release
+done
+nsfailed
+rv
+mstatus
+rv
+mfolder
+notifycompactcompleted
+releasefolderlock
+release
+rv
+rv
+nsimethodimp
+nsfoldercompactstate
+ondataavailable
+nsirequest
+request
+nsisupports
+ctxt
+nsiinputstream
+instr
+pruint
+sourceoffset
+pruint
+count
+mfilestream
+instr
+nserrorfailure
+nsresult
+rv
+nsok
+pruint
+msgflags
+mstartofmsg
+mstatusoffset
+mmessageuri
+setlength
+nssucceeded
+buildmessageuri
+mbasemessageuri
+mkeyarray
+mcurindex
+mmessageuri
+rv
+getmessage
+getteraddrefs
+mcursrchdr
+nsensuresuccess
+rv
+rv
+mcursrchdr
+mcursrchdr
+getflags
+msgflags
+pruint
+statusoffset
+mcursrchdr
+getstatusoffset
+statusoffset
+statusoffset
+mneedstatusline
+prtrue
+mstartofmsg
+prfalse
+pruint
+maxreadcount
+readcount
+writecount
+nssucceeded
+rv
+print
+count
+maxreadcount
+count
+count
+rv
+instr
+read
+mdatabuffer
+maxreadcount
+readcount
+nssucceeded
+rv
+mneedstatusline
+mneedstatusline
+prfalse
+strncmp
+mdatabuffer
+from
+print
+charindex
+charindex
+charindex
+readcount
+charindex
+mdatabuffer
+charindex
+nscrt
+cr
+mdatabuffer
+charindex
+nscrt
+lf
+charindex
+mdatabuffer
+charindex
+nscrt
+cr
+mdatabuffer
+charindex
+nscrt
+lf
+charindex
+statusline
+writecount
+mfilestream
+write
+mdatabuffer
+charindex
+mstatusoffset
+charindex
+prsnprintf
+statusline
+statusline
+xmozillastatusformat
+msglinebreak
+msgflags
+xffff
+mstatuslinesize
+mfilestream
+write
+statusline
+strlen
+statusline
+prsnprintf
+statusline
+statusline
+xmozillastatusformat
+msglinebreak
+msgflags
+xffff
+mstatuslinesize
+mfilestream
+write
+statusline
+strlen
+statusline
+writecount
+mfilestream
+write
+mdatabuffer
+charindex
+readcount
+charindex
+nsassertion
+prfalse
+an
+envelope
+nscomptr
+nsimsgdatabase
+srcdb
+mfolder
+getmsgdatabase
+nsnull
+getteraddrefs
+srcdb
+srcdb
+srcdb
+setsummaryvalid
+prfalse
+srcdb
+forceclosed
+writecount
+mfilestream
+write
+mdatabuffer
+readcount
+count
+readcount
+writecount
+readcount
+mfolder
+throwalertmsg
+compactfolderwritefailed
+mwindow
+nsmsgerrorwritingmailfolder
+rv
+nsofflinestorecompactstate
+nsofflinestorecompactstate
+nsofflinestorecompactstate
+nsofflinestorecompactstate
+nsresult
+nsofflinestorecompactstate
+initdb
+nsimsgdatabase
+db
+db
+listallofflinemsgs
+mkeyarray
+mdb
+db
+nsok
+nsimethodimp
+nsofflinestorecompactstate
+onstoprequest
+nsirequest
+request
+nsisupports
+ctxt
+nsresult
+status
+nsresult
+rv
+status
+nscomptr
+nsiuri
+uri
+nscomptr
+nsimsgdbhdr
+msghdr
+nscomptr
+nsimsgdbhdr
+newmsghdr
+nscomptr
+nsimsgstatusfeedback
+statusfeedback
+releasefolderlock
+nsfailed
+rv
+done
+uri
+doqueryinterface
+ctxt
+rv
+nsfailed
+rv
+done
+rv
+getmessage
+getteraddrefs
+msghdr
+nsfailed
+rv
+done
+msghdr
+msghdr
+setmessageoffset
+mstartofnewmsg
+mwindow
+mwindow
+getstatusfeedback
+getteraddrefs
+statusfeedback
+statusfeedback
+statusfeedback
+showprogress
+mcurindex
+msize
+mcurindex
+mcurindex
+msize
+mdb
+commit
+nsmsgdbcommittype
+klargecommit
+msghdr
+nsnull
+newmsghdr
+nsnull
+finishcompact
+release
+mmessageuri
+setlength
+rv
+buildmessageuri
+mbasemessageuri
+mkeyarray
+mcurindex
+mmessageuri
+nsfailed
+rv
+done
+rv
+mmessageservice
+copymessage
+mmessageuri
+get
+prfalse
+nsnull
+nsnull
+nsnull
+nsfailed
+rv
+pruint
+resultflags
+msghdr
+andflags
+msgflagoffline
+resultflags
+done
+nsfailed
+rv
+mstatus
+rv
+release
+rv
+rv
+nsresult
+nsofflinestorecompactstate
+finishcompact
+nsresult
+rv
+nsok
+nscomptr
+nsifilespec
+pathspec
+nsfilespec
+filespec
+pruint
+flags
+mfolder
+getflags
+flags
+rv
+mfolder
+getpath
+getteraddrefs
+pathspec
+pathspec
+getfilespec
+filespec
+nsxpidlcstring
+leafname
+pathspec
+getleafname
+gettercopies
+leafname
+mfilestream
+flush
+mfilestream
+close
+mfilestream
+mfilestream
+nsnull
+nscomptr
+nsidbfolderinfo
+dbfolderinfo
+mdb
+getdbfolderinfo
+getteraddrefs
+dbfolderinfo
+dbfolderinfo
+dbfolderinfo
+setexpungedbytes
+mfolder
+updatesummarytotals
+prtrue
+mdb
+setsummaryvalid
+prtrue
+mdb
+commit
+nsmsgdbcommittype
+klargecommit
+filespec
+delete
+prfalse
+mfilespec
+rename
+leafname
+get
+prunichar
+emptystr
+showstatusmsg
+emptystr
+mcompactall
+rv
+compactnextfolder
+rv
+nsimethodimp
+nsfoldercompactstate
+init
+nsimsgfolder
+srcfolder
+nsicopymessagelistener
+destination
+nsisupports
+listenerdata
+nsok
+nsimethodimp
+nsfoldercompactstate
+startmessage
+nsresult
+rv
+nserrorfailure
+nsassertion
+mfilestream
+fatal
+mfilestream
+mfilestream
+mfilestream
+seek
+prseekcur
+mstartofnewmsg
+mfilestream
+tell
+rv
+nsok
+rv
+nsimethodimp
+nsfoldercompactstate
+endmessage
+nsmsgkey
+key
+nsok
+nsimethodimp
+nsfoldercompactstate
+endcopy
+nsisupports
+url
+nsresult
+astatus
+nscomptr
+nsimsgdbhdr
+msghdr
+nscomptr
+nsimsgdbhdr
+newmsghdr
+mcurindex
+msize
+nsassertion
+prfalse
+mcurindex
+out
+of
+bounds
+nsok
+mcursrchdr
+mdb
+copyhdrfromexistinghdr
+mstartofnewmsg
+mcursrchdr
+prtrue
+getteraddrefs
+newmsghdr
+mcursrchdr
+nsnull
+newmsghdr
+mstatusoffset
+pruint
+oldmsgsize
+newmsghdr
+setstatusoffset
+mstatusoffset
+newmsghdr
+getmessagesize
+oldmsgsize
+newmsghdr
+setmessagesize
+oldmsgsize
+mstatuslinesize
+mcurindex
+mstartofmsg
+prtrue
+nscomptr
+nsimsgstatusfeedback
+statusfeedback
+mwindow
+mwindow
+getstatusfeedback
+getteraddrefs
+statusfeedback
+statusfeedback
+statusfeedback
+showprogress
+mcurindex
+msize
+nsok
+nsresult
+nsofflinestorecompactstate
+startcompacting
+nsresult
+rv
+nsok
+msize
+mcurindex
+addref
+showcompactingstatusmsg
+mmessageuri
+setlength
+rv
+buildmessageuri
+mbasemessageuri
+mkeyarray
+mmessageuri
+nssucceeded
+rv
+rv
+mmessageservice
+copymessage
+mmessageuri
+get
+prfalse
+nsnull
+mwindow
+nsnull
+releasefolderlock
+finishcompact
+rv
\ No newline at end of file
@@ -0,0 +1,4130 @@
+msgcore
+prlog
+nsmsgfolderdatasource
+nsmsgfolderflags
+nsmsgrdfutils
+rdf
+nsirdfservice
+nsrdfcid
+nsirdfnode
+nsenumeratorutils
+nsadapterenumerator
+nsstring
+nscomptr
+nsxpidlstring
+nsimsgmailsession
+nsimsgcopyservice
+nsmsgbasecid
+nsiinputstream
+nsimsghdr
+nstracerefcnt
+nsimsgfolder
+nsarray
+nsdefinecid
+krdfservicecid
+nsrdfservicecid
+nsirdfresource
+nsmsgfolderdatasource
+kncchild
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncfolder
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncname
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncopen
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncfoldertreename
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncfoldertreesimplename
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncnamesort
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncfoldertreenamesort
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncspecialfolder
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncservertype
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncredirectortype
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+knccancreatefoldersonserver
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+knccanfilemessagesonserver
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncisserver
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncissecure
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+knccansubscribe
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncsupportsoffline
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+knccanfilemessages
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+knccancreatesubfolders
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+knccanrename
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+knccancompact
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+knctotalmessages
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+knctotalunreadmessages
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncfoldersize
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+knccharset
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncbiffstate
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+knchasunreadmessages
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncnewmessages
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncsubfoldershaveunreadmessages
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncnoselect
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncimapshared
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncsynchronize
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncsyncdisabled
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+knccansearchmessages
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncdelete
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncreallydelete
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncnewfolder
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncgetnewmessages
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+knccopy
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncmove
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+knccopyfolder
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncmovefolder
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncmarkallmessagesread
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+knccompact
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+knccompactall
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncrename
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncemptytrash
+nsnull
+nsirdfresource
+nsmsgfolderdatasource
+kncdownloadflagged
+nsnull
+nsrefcnt
+nsmsgfolderdatasource
+gfolderresourcerefcnt
+nsiatom
+nsmsgfolderdatasource
+kbiffstateatom
+nsnull
+nsiatom
+nsmsgfolderdatasource
+knewmessagesatom
+nsnull
+nsiatom
+nsmsgfolderdatasource
+ktotalmessagesatom
+nsnull
+nsiatom
+nsmsgfolderdatasource
+ktotalunreadmessagesatom
+nsnull
+nsiatom
+nsmsgfolderdatasource
+kfoldersizeatom
+nsnull
+nsiatom
+nsmsgfolderdatasource
+knameatom
+nsnull
+nsiatom
+nsmsgfolderdatasource
+ksynchronizeatom
+nsnull
+nsiatom
+nsmsgfolderdatasource
+kopenatom
+nsnull
+pruint
+kdisplayblankcount
+xfffffffe
+pruint
+kdisplayquestioncount
+xffffffff
+nsmsgfolderdatasource
+nsmsgfolderdatasource
+nsirdfservice
+rdf
+getrdfservice
+gfolderresourcerefcnt
+rdf
+getresource
+nsliteralcstring
+ncrdfchild
+kncchild
+rdf
+getresource
+nsliteralcstring
+ncrdffolder
+kncfolder
+rdf
+getresource
+nsliteralcstring
+ncrdfname
+kncname
+rdf
+getresource
+nsliteralcstring
+ncrdfopen
+kncopen
+rdf
+getresource
+nsliteralcstring
+ncrdffoldertreename
+kncfoldertreename
+rdf
+getresource
+nsliteralcstring
+ncrdffoldertreesimplename
+kncfoldertreesimplename
+rdf
+getresource
+nsliteralcstring
+ncrdfnamesort
+kncnamesort
+rdf
+getresource
+nsliteralcstring
+ncrdffoldertreenamesort
+kncfoldertreenamesort
+rdf
+getresource
+nsliteralcstring
+ncrdfspecialfolder
+kncspecialfolder
+rdf
+getresource
+nsliteralcstring
+ncrdfservertype
+kncservertype
+rdf
+getresource
+nsliteralcstring
+ncrdfredirectortype
+kncredirectortype
+rdf
+getresource
+nsliteralcstring
+ncrdfcancreatefoldersonserver
+knccancreatefoldersonserver
+rdf
+getresource
+nsliteralcstring
+ncrdfcanfilemessagesonserver
+knccanfilemessagesonserver
+rdf
+getresource
+nsliteralcstring
+ncrdfisserver
+kncisserver
+rdf
+getresource
+nsliteralcstring
+ncrdfissecure
+kncissecure
+rdf
+getresource
+nsliteralcstring
+ncrdfcansubscribe
+knccansubscribe
+rdf
+getresource
+nsliteralcstring
+ncrdfsupportsoffline
+kncsupportsoffline
+rdf
+getresource
+nsliteralcstring
+ncrdfcanfilemessages
+knccanfilemessages
+rdf
+getresource
+nsliteralcstring
+ncrdfcancreatesubfolders
+knccancreatesubfolders
+rdf
+getresource
+nsliteralcstring
+ncrdfcanrename
+knccanrename
+rdf
+getresource
+nsliteralcstring
+ncrdfcancompact
+knccancompact
+rdf
+getresource
+nsliteralcstring
+ncrdftotalmessages
+knctotalmessages
+rdf
+getresource
+nsliteralcstring
+ncrdftotalunreadmessages
+knctotalunreadmessages
+rdf
+getresource
+nsliteralcstring
+ncrdffoldersize
+kncfoldersize
+rdf
+getresource
+nsliteralcstring
+ncrdfcharset
+knccharset
+rdf
+getresource
+nsliteralcstring
+ncrdfbiffstate
+kncbiffstate
+rdf
+getresource
+nsliteralcstring
+ncrdfhasunreadmessages
+knchasunreadmessages
+rdf
+getresource
+nsliteralcstring
+ncrdfnewmessages
+kncnewmessages
+rdf
+getresource
+nsliteralcstring
+ncrdfsubfoldershaveunreadmessages
+kncsubfoldershaveunreadmessages
+rdf
+getresource
+nsliteralcstring
+ncrdfnoselect
+kncnoselect
+rdf
+getresource
+nsliteralcstring
+ncrdfimapshared
+kncimapshared
+rdf
+getresource
+nsliteralcstring
+ncrdfsynchronize
+kncsynchronize
+rdf
+getresource
+nsliteralcstring
+ncrdfsyncdisabled
+kncsyncdisabled
+rdf
+getresource
+nsliteralcstring
+ncrdfcansearchmessages
+knccansearchmessages
+rdf
+getresource
+nsliteralcstring
+ncrdfdelete
+kncdelete
+rdf
+getresource
+nsliteralcstring
+ncrdfreallydelete
+kncreallydelete
+rdf
+getresource
+nsliteralcstring
+ncrdfnewfolder
+kncnewfolder
+rdf
+getresource
+nsliteralcstring
+ncrdfgetnewmessages
+kncgetnewmessages
+rdf
+getresource
+nsliteralcstring
+ncrdfcopy
+knccopy
+rdf
+getresource
+nsliteralcstring
+ncrdfmove
+kncmove
+rdf
+getresource
+nsliteralcstring
+ncrdfcopyfolder
+knccopyfolder
+rdf
+getresource
+nsliteralcstring
+ncrdfmovefolder
+kncmovefolder
+rdf
+getresource
+nsliteralcstring
+ncrdfmarkallmessagesread
+kncmarkallmessagesread
+rdf
+getresource
+nsliteralcstring
+ncrdfcompact
+knccompact
+rdf
+getresource
+nsliteralcstring
+ncrdfcompactall
+knccompactall
+rdf
+getresource
+nsliteralcstring
+ncrdfrename
+kncrename
+rdf
+getresource
+nsliteralcstring
+ncrdfemptytrash
+kncemptytrash
+rdf
+getresource
+nsliteralcstring
+ncrdfdownloadflagged
+kncdownloadflagged
+ktotalmessagesatom
+nsnewatom
+totalmessages
+ktotalunreadmessagesatom
+nsnewatom
+totalunreadmessages
+kfoldersizeatom
+nsnewatom
+foldersize
+kbiffstateatom
+nsnewatom
+biffstate
+knewmessagesatom
+nsnewatom
+newmessages
+knameatom
+nsnewatom
+name
+ksynchronizeatom
+nsnewatom
+synchronize
+kopenatom
+nsnewatom
+open
+createliterals
+rdf
+createarcsoutenumerator
+nsmsgfolderdatasource
+nsmsgfolderdatasource
+gfolderresourcerefcnt
+nsrefcnt
+refcnt
+nsrelease
+kncchild
+refcnt
+nsrelease
+kncfolder
+refcnt
+nsrelease
+kncname
+refcnt
+nsrelease
+kncopen
+refcnt
+nsrelease
+kncfoldertreename
+refcnt
+nsrelease
+kncfoldertreesimplename
+refcnt
+nsrelease
+kncnamesort
+refcnt
+nsrelease
+kncfoldertreenamesort
+refcnt
+nsrelease
+kncspecialfolder
+refcnt
+nsrelease
+kncservertype
+refcnt
+nsrelease
+kncredirectortype
+refcnt
+nsrelease
+knccancreatefoldersonserver
+refcnt
+nsrelease
+knccanfilemessagesonserver
+refcnt
+nsrelease
+kncisserver
+refcnt
+nsrelease
+kncissecure
+refcnt
+nsrelease
+knccansubscribe
+refcnt
+nsrelease
+kncsupportsoffline
+refcnt
+nsrelease
+knccanfilemessages
+refcnt
+nsrelease
+knccancreatesubfolders
+refcnt
+nsrelease
+knccanrename
+refcnt
+nsrelease
+knccancompact
+refcnt
+nsrelease
+knctotalmessages
+refcnt
+nsrelease
+knctotalunreadmessages
+refcnt
+nsrelease
+kncfoldersize
+refcnt
+nsrelease
+knccharset
+refcnt
+nsrelease
+kncbiffstate
+refcnt
+nsrelease
+knchasunreadmessages
+refcnt
+nsrelease
+kncnewmessages
+refcnt
+nsrelease
+kncsubfoldershaveunreadmessages
+refcnt
+nsrelease
+kncnoselect
+refcnt
+nsrelease
+kncimapshared
+refcnt
+nsrelease
+kncsynchronize
+refcnt
+nsrelease
+kncsyncdisabled
+refcnt
+nsrelease
+knccansearchmessages
+refcnt
+nsrelease
+kncdelete
+refcnt
+nsrelease
+kncreallydelete
+refcnt
+nsrelease
+kncnewfolder
+refcnt
+nsrelease
+kncgetnewmessages
+refcnt
+nsrelease
+knccopy
+refcnt
+nsrelease
+kncmove
+refcnt
+nsrelease
+knccopyfolder
+refcnt
+nsrelease
+kncmovefolder
+refcnt
+nsrelease
+kncmarkallmessagesread
+refcnt
+nsrelease
+knccompact
+refcnt
+nsrelease
+knccompactall
+refcnt
+nsrelease
+kncrename
+refcnt
+nsrelease
+kncemptytrash
+refcnt
+nsrelease
+kncdownloadflagged
+refcnt
+nsrelease
+ktotalmessagesatom
+nsrelease
+ktotalunreadmessagesatom
+nsrelease
+kfoldersizeatom
+nsrelease
+kbiffstateatom
+nsrelease
+knewmessagesatom
+nsrelease
+knameatom
+nsrelease
+ksynchronizeatom
+nsrelease
+kopenatom
+nsresult
+nsmsgfolderdatasource
+createliterals
+nsirdfservice
+rdf
+createnode
+nsliteralstring
+get
+getteraddrefs
+ktrueliteral
+rdf
+createnode
+nsliteralstring
+get
+getteraddrefs
+kfalseliteral
+rdf
+nsok
+nsresult
+nsmsgfolderdatasource
+init
+nsresult
+rv
+rv
+nsmsgrdfdatasource
+init
+nsfailed
+rv
+rv
+nscomptr
+nsimsgmailsession
+mailsession
+dogetservice
+nsmsgmailsessioncontractid
+rv
+nssucceeded
+rv
+mailsession
+addfolderlistener
+nsifolderlistener
+added
+nsifolderlistener
+removed
+nsifolderlistener
+intpropertychanged
+nsifolderlistener
+boolpropertychanged
+nsifolderlistener
+unicharpropertychanged
+nsifolderlistener
+propertyflagchanged
+nsok
+nsmsgfolderdatasource
+cleanup
+nsresult
+rv
+mshuttingdown
+nscomptr
+nsimsgmailsession
+mailsession
+dogetservice
+nsmsgmailsessioncontractid
+rv
+nssucceeded
+rv
+mailsession
+removefolderlistener
+nsmsgrdfdatasource
+cleanup
+nsresult
+nsmsgfolderdatasource
+createarcsoutenumerator
+nsresult
+rv
+rv
+getfolderarclabelsout
+getteraddrefs
+kfolderarcsoutarray
+nsfailed
+rv
+rv
+rv
+nsimpladdrefinherited
+nsmsgfolderdatasource
+nsmsgrdfdatasource
+nsimplreleaseinherited
+nsmsgfolderdatasource
+nsmsgrdfdatasource
+nsimethodimp
+nsmsgfolderdatasource
+queryinterface
+refnsiid
+iid
+result
+result
+nserrornullpointer
+result
+nsnull
+iid
+equals
+nsgetiid
+nsifolderlistener
+result
+nsstaticcast
+nsifolderlistener
+nsaddref
+nsok
+nsmsgrdfdatasource
+queryinterface
+iid
+result
+nsimethodimp
+nsmsgfolderdatasource
+geturi
+uri
+uri
+nscrt
+strdup
+rdf
+mailnewsfolders
+nsnull
+nserroroutofmemory
+nsok
+nsimethodimp
+nsmsgfolderdatasource
+getsource
+nsirdfresource
+property
+nsirdfnode
+target
+prbool
+tv
+nsirdfresource
+source
+prassert
+nserrornotimplemented
+nsimethodimp
+nsmsgfolderdatasource
+gettarget
+nsirdfresource
+source
+nsirdfresource
+property
+prbool
+tv
+nsirdfnode
+target
+nsresult
+rv
+nsrdfnovalue
+tv
+nsrdfnovalue
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+source
+folder
+rv
+createfoldernode
+folder
+property
+target
+nsxpidlcstring
+srcval
+nsxpidlcstring
+propval
+nsxpidlcstring
+targetval
+source
+getvalue
+gettercopies
+srcval
+property
+getvalue
+gettercopies
+propval
+printf
+nsmsgfolderdatasource
+gettarget
+srcval
+propval
+tv
+true
+false
+endif
+nsrdfnovalue
+rv
+nsimethodimp
+nsmsgfolderdatasource
+getsources
+nsirdfresource
+property
+nsirdfnode
+target
+prbool
+tv
+nsisimpleenumerator
+sources
+prassert
+nserrornotimplemented
+nsimethodimp
+nsmsgfolderdatasource
+gettargets
+nsirdfresource
+source
+nsirdfresource
+property
+prbool
+tv
+nsisimpleenumerator
+targets
+nsresult
+rv
+nsrdfnovalue
+targets
+nserrornullpointer
+nsxpidlcstring
+srcval
+nsxpidlcstring
+propval
+nsxpidlcstring
+targetval
+source
+getvalue
+gettercopies
+srcval
+property
+getvalue
+gettercopies
+propval
+printf
+nsmsgfolderdatasource
+gettargets
+srcval
+propval
+tv
+true
+false
+endif
+targets
+nsnull
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+source
+rv
+nssucceeded
+rv
+kncchild
+property
+nscomptr
+nsienumerator
+subfolders
+rv
+folder
+getsubfolders
+getteraddrefs
+subfolders
+nssucceeded
+rv
+nsadapterenumerator
+cursor
+nsadapterenumerator
+subfolders
+cursor
+nsnull
+nserroroutofmemory
+nsaddref
+cursor
+targets
+cursor
+rv
+nsok
+kncname
+property
+kncopen
+property
+kncfoldertreename
+property
+kncfoldertreesimplename
+property
+kncspecialfolder
+property
+kncisserver
+property
+kncissecure
+property
+knccansubscribe
+property
+kncsupportsoffline
+property
+knccanfilemessages
+property
+knccancreatesubfolders
+property
+knccanrename
+property
+knccancompact
+property
+kncservertype
+property
+kncredirectortype
+property
+knccancreatefoldersonserver
+property
+knccanfilemessagesonserver
+property
+kncnoselect
+property
+kncimapshared
+property
+kncsynchronize
+property
+kncsyncdisabled
+property
+knccansearchmessages
+property
+nssingletonenumerator
+cursor
+nssingletonenumerator
+property
+cursor
+nsnull
+nserroroutofmemory
+nsaddref
+cursor
+targets
+cursor
+rv
+nsok
+targets
+rv
+nsnewemptyenumerator
+targets
+rv
+nsimethodimp
+nsmsgfolderdatasource
+assert
+nsirdfresource
+source
+nsirdfresource
+property
+nsirdfnode
+target
+prbool
+tv
+nsresult
+rv
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+source
+rv
+nssucceeded
+rv
+tv
+dofolderassert
+folder
+property
+target
+nserrorfailure
+nsimethodimp
+nsmsgfolderdatasource
+unassert
+nsirdfresource
+source
+nsirdfresource
+property
+nsirdfnode
+target
+nsresult
+rv
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+source
+rv
+nsensuresuccess
+rv
+rv
+dofolderunassert
+folder
+property
+target
+nsimethodimp
+nsmsgfolderdatasource
+hasassertion
+nsirdfresource
+source
+nsirdfresource
+property
+nsirdfnode
+target
+prbool
+tv
+prbool
+hasassertion
+nsresult
+rv
+nsxpidlcstring
+sourceval
+nsxpidlcstring
+propval
+nsxpidlcstring
+targetval
+source
+getvalue
+gettercopies
+sourceval
+property
+getvalue
+gettercopies
+propval
+printf
+hasassertion
+sourceval
+propval
+endif
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+source
+rv
+nssucceeded
+rv
+dofolderhasassertion
+folder
+property
+target
+tv
+hasassertion
+hasassertion
+prfalse
+nsok
+nsimethodimp
+nsmsgfolderdatasource
+hasarcout
+nsirdfresource
+asource
+nsirdfresource
+aarc
+prbool
+result
+nsresult
+rv
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+asource
+rv
+nssucceeded
+rv
+result
+aarc
+kncname
+aarc
+kncopen
+aarc
+kncfoldertreename
+aarc
+kncfoldertreesimplename
+aarc
+kncspecialfolder
+aarc
+kncservertype
+aarc
+kncredirectortype
+aarc
+knccancreatefoldersonserver
+aarc
+knccanfilemessagesonserver
+aarc
+kncisserver
+aarc
+kncissecure
+aarc
+knccansubscribe
+aarc
+kncsupportsoffline
+aarc
+knccanfilemessages
+aarc
+knccancreatesubfolders
+aarc
+knccanrename
+aarc
+knccancompact
+aarc
+knctotalmessages
+aarc
+knctotalunreadmessages
+aarc
+kncfoldersize
+aarc
+knccharset
+aarc
+kncbiffstate
+aarc
+kncchild
+aarc
+kncnoselect
+aarc
+kncimapshared
+aarc
+kncsynchronize
+aarc
+kncsyncdisabled
+aarc
+knccansearchmessages
+result
+prfalse
+nsok
+nsimethodimp
+nsmsgfolderdatasource
+arclabelsin
+nsirdfnode
+node
+nsisimpleenumerator
+labels
+nsmsgrdfdatasource
+arclabelsin
+node
+labels
+nsimethodimp
+nsmsgfolderdatasource
+arclabelsout
+nsirdfresource
+source
+nsisimpleenumerator
+labels
+nsresult
+rv
+nsrdfnovalue
+nscomptr
+nsisupportsarray
+arcsarray
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+source
+rv
+nssucceeded
+rv
+arcsarray
+kfolderarcsoutarray
+rv
+nsnewarrayenumerator
+labels
+arcsarray
+rv
+nsnewemptyenumerator
+labels
+rv
+nsresult
+nsmsgfolderdatasource
+getfolderarclabelsout
+nsisupportsarray
+arcs
+nsresult
+rv
+rv
+nsnewisupportsarray
+arcs
+nsfailed
+rv
+rv
+arcs
+appendelement
+kncname
+arcs
+appendelement
+kncopen
+arcs
+appendelement
+kncfoldertreename
+arcs
+appendelement
+kncfoldertreesimplename
+arcs
+appendelement
+kncspecialfolder
+arcs
+appendelement
+kncservertype
+arcs
+appendelement
+kncredirectortype
+arcs
+appendelement
+knccancreatefoldersonserver
+arcs
+appendelement
+knccanfilemessagesonserver
+arcs
+appendelement
+kncisserver
+arcs
+appendelement
+kncissecure
+arcs
+appendelement
+knccansubscribe
+arcs
+appendelement
+kncsupportsoffline
+arcs
+appendelement
+knccanfilemessages
+arcs
+appendelement
+knccancreatesubfolders
+arcs
+appendelement
+knccanrename
+arcs
+appendelement
+knccancompact
+arcs
+appendelement
+knctotalmessages
+arcs
+appendelement
+knctotalunreadmessages
+arcs
+appendelement
+kncfoldersize
+arcs
+appendelement
+knccharset
+arcs
+appendelement
+kncbiffstate
+arcs
+appendelement
+kncchild
+arcs
+appendelement
+kncnoselect
+arcs
+appendelement
+kncimapshared
+arcs
+appendelement
+kncsynchronize
+arcs
+appendelement
+kncsyncdisabled
+arcs
+appendelement
+knccansearchmessages
+nsok
+nsimethodimp
+nsmsgfolderdatasource
+getallresources
+nsisimpleenumerator
+acursor
+nsnotyetimplemented
+sorry
+nserrornotimplemented
+nsimethodimp
+nsmsgfolderdatasource
+getallcmds
+nsirdfresource
+source
+nsisimpleenumerator
+commands
+nsnotyetimplemented
+no
+one
+actually
+uses
+me
+nsresult
+rv
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+source
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsimutablearray
+cmds
+nsnewarray
+getteraddrefs
+cmds
+cmds
+rv
+cmds
+appendelement
+kncdelete
+prfalse
+cmds
+appendelement
+kncreallydelete
+prfalse
+cmds
+appendelement
+kncnewfolder
+prfalse
+cmds
+appendelement
+kncgetnewmessages
+prfalse
+cmds
+appendelement
+knccopy
+prfalse
+cmds
+appendelement
+kncmove
+prfalse
+cmds
+appendelement
+knccopyfolder
+prfalse
+cmds
+appendelement
+kncmovefolder
+prfalse
+cmds
+appendelement
+kncmarkallmessagesread
+prfalse
+cmds
+appendelement
+knccompact
+prfalse
+cmds
+appendelement
+knccompactall
+prfalse
+cmds
+appendelement
+kncrename
+prfalse
+cmds
+appendelement
+kncemptytrash
+prfalse
+cmds
+appendelement
+kncdownloadflagged
+prfalse
+cmds
+enumerate
+commands
+nsimethodimp
+nsmsgfolderdatasource
+iscommandenabled
+nsisupportsarray
+asources
+nsirdfresource
+acommand
+nsisupportsarray
+aarguments
+prbool
+aresult
+nsresult
+rv
+nscomptr
+nsimsgfolder
+folder
+pruint
+cnt
+rv
+asources
+count
+cnt
+nsfailed
+rv
+rv
+pruint
+cnt
+folder
+doqueryelementat
+asources
+rv
+nssucceeded
+rv
+acommand
+kncdelete
+acommand
+kncreallydelete
+acommand
+kncnewfolder
+acommand
+knccopy
+acommand
+kncmove
+acommand
+knccopyfolder
+acommand
+kncmovefolder
+acommand
+kncgetnewmessages
+acommand
+kncmarkallmessagesread
+acommand
+knccompact
+acommand
+knccompactall
+acommand
+kncrename
+acommand
+kncemptytrash
+acommand
+kncdownloadflagged
+aresult
+prfalse
+nsok
+aresult
+prtrue
+nsok
+nsimethodimp
+nsmsgfolderdatasource
+docommand
+nsisupportsarray
+asources
+nsirdfresource
+acommand
+nsisupportsarray
+aarguments
+nsresult
+rv
+nsok
+nscomptr
+nsisupports
+supports
+pruint
+cnt
+pruint
+rv
+asources
+count
+cnt
+nsfailed
+rv
+rv
+cnt
+nscomptr
+nsimsgfolder
+folder
+doqueryelementat
+asources
+rv
+nssucceeded
+rv
+acommand
+kncdelete
+rv
+dodeletefromfolder
+folder
+aarguments
+mwindow
+prfalse
+acommand
+kncreallydelete
+rv
+dodeletefromfolder
+folder
+aarguments
+mwindow
+prtrue
+acommand
+kncnewfolder
+rv
+donewfolder
+folder
+aarguments
+acommand
+kncgetnewmessages
+rv
+folder
+getnewmessages
+mwindow
+nsnull
+acommand
+knccopy
+rv
+docopytofolder
+folder
+aarguments
+mwindow
+prfalse
+acommand
+kncmove
+rv
+docopytofolder
+folder
+aarguments
+mwindow
+prtrue
+acommand
+knccopyfolder
+rv
+dofoldercopytofolder
+folder
+aarguments
+mwindow
+prfalse
+acommand
+kncmovefolder
+rv
+dofoldercopytofolder
+folder
+aarguments
+mwindow
+prtrue
+acommand
+kncmarkallmessagesread
+rv
+folder
+markallmessagesread
+acommand
+knccompact
+rv
+folder
+compact
+nsnull
+mwindow
+acommand
+knccompactall
+rv
+folder
+compactall
+nsnull
+mwindow
+nsnull
+prfalse
+nsnull
+acommand
+kncemptytrash
+rv
+folder
+emptytrash
+mwindow
+nsnull
+acommand
+kncrename
+nscomptr
+nsirdfliteral
+literal
+doqueryelementat
+aarguments
+rv
+nssucceeded
+rv
+nsxpidlstring
+name
+literal
+getvalue
+gettercopies
+name
+rv
+folder
+rename
+name
+get
+mwindow
+rv
+nserrornotimplemented
+rv
+nsimethodimp
+nsmsgfolderdatasource
+onitemadded
+nsisupports
+parentitem
+nsisupports
+item
+viewstring
+onitemaddedorremoved
+parentitem
+item
+viewstring
+prtrue
+nsimethodimp
+nsmsgfolderdatasource
+onitemremoved
+nsisupports
+parentitem
+nsisupports
+item
+viewstring
+onitemaddedorremoved
+parentitem
+item
+viewstring
+prfalse
+nsresult
+nsmsgfolderdatasource
+onitemaddedorremoved
+nsisupports
+parentitem
+nsisupports
+item
+viewstring
+prbool
+added
+nsresult
+rv
+nscomptr
+nsirdfresource
+parentresource
+nscomptr
+nsimsgfolder
+parentfolder
+nscomptr
+nsimsgfolder
+folder
+parentfolder
+doqueryinterface
+parentitem
+parentfolder
+nsok
+parentresource
+doqueryinterface
+parentitem
+parentresource
+nsok
+nssucceeded
+item
+queryinterface
+nsgetiid
+nsimsgfolder
+getteraddrefs
+folder
+nscomptr
+nsirdfnode
+itemnode
+doqueryinterface
+item
+rv
+nssucceeded
+rv
+notifyobservers
+parentresource
+kncchild
+itemnode
+added
+prfalse
+nsok
+nsimethodimp
+nsmsgfolderdatasource
+onitempropertychanged
+nsisupports
+item
+nsiatom
+property
+oldvalue
+newvalue
+nsok
+nsimethodimp
+nsmsgfolderdatasource
+onitemintpropertychanged
+nsisupports
+item
+nsiatom
+property
+print
+oldvalue
+print
+newvalue
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+item
+folder
+ktotalmessagesatom
+property
+ontotalmessagepropertychanged
+folder
+oldvalue
+newvalue
+ktotalunreadmessagesatom
+property
+onunreadmessagepropertychanged
+folder
+oldvalue
+newvalue
+kfoldersizeatom
+property
+onfoldersizepropertychanged
+folder
+oldvalue
+newvalue
+nsok
+nsimethodimp
+nsmsgfolderdatasource
+onitemunicharpropertychanged
+nsisupports
+item
+nsiatom
+property
+prunichar
+oldvalue
+prunichar
+newvalue
+nsresult
+rv
+nsok
+knameatom
+property
+nscomptr
+nsirdfresource
+resource
+doqueryinterface
+item
+rv
+nssucceeded
+rv
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+item
+rv
+nssucceeded
+rv
+print
+numunread
+folder
+getnumunread
+prfalse
+numunread
+notifyfoldertreenamechanged
+folder
+numunread
+notifyfoldertreesimplenamechanged
+folder
+notifyfoldernamechanged
+folder
+nsok
+nsimethodimp
+nsmsgfolderdatasource
+onitemboolpropertychanged
+nsisupports
+item
+nsiatom
+property
+prbool
+oldvalue
+prbool
+newvalue
+nsresult
+rv
+nsok
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+item
+folder
+rv
+nscomptr
+nsirdfresource
+resource
+doqueryinterface
+item
+item
+rv
+newvalue
+oldvalue
+nsirdfnode
+literalnode
+newvalue
+ktrueliteral
+kfalseliteral
+knewmessagesatom
+property
+notifypropertychanged
+resource
+kncnewmessages
+literalnode
+ksynchronizeatom
+property
+notifypropertychanged
+resource
+kncsynchronize
+literalnode
+kopenatom
+property
+notifypropertychanged
+resource
+kncopen
+literalnode
+rv
+nsimethodimp
+nsmsgfolderdatasource
+onitempropertyflagchanged
+nsisupports
+item
+nsiatom
+property
+pruint
+oldflag
+pruint
+newflag
+nsresult
+rv
+nsok
+kbiffstateatom
+property
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+item
+folder
+nscomptr
+nsimsgdbhdr
+msghdr
+doqueryinterface
+item
+msghdr
+rv
+msghdr
+getfolder
+getteraddrefs
+folder
+nsfailed
+rv
+rv
+nscomptr
+nsirdfresource
+resource
+doqueryinterface
+folder
+resource
+nscomptr
+nsirdfnode
+biffnode
+rv
+createbiffstatenodefromflag
+newflag
+getteraddrefs
+biffnode
+nsensuresuccess
+rv
+rv
+notifypropertychanged
+resource
+kncbiffstate
+biffnode
+nsok
+nsimethodimp
+nsmsgfolderdatasource
+onitemevent
+nsifolder
+afolder
+nsiatom
+aevent
+nsok
+nsresult
+nsmsgfolderdatasource
+createfoldernode
+nsimsgfolder
+folder
+nsirdfresource
+property
+nsirdfnode
+target
+nsresult
+rv
+nsrdfnovalue
+kncnamesort
+property
+rv
+createfoldernamenode
+folder
+target
+prtrue
+kncfoldertreenamesort
+property
+rv
+createfoldernamenode
+folder
+target
+prtrue
+kncname
+property
+rv
+createfoldernamenode
+folder
+target
+prfalse
+kncopen
+property
+rv
+createfolderopennode
+folder
+target
+kncfoldertreename
+property
+rv
+createfoldertreenamenode
+folder
+target
+kncfoldertreesimplename
+property
+rv
+createfoldertreesimplenamenode
+folder
+target
+kncspecialfolder
+property
+rv
+createfolderspecialnode
+folder
+target
+kncservertype
+property
+rv
+createfolderservertypenode
+folder
+target
+kncredirectortype
+property
+rv
+createfolderredirectortypenode
+folder
+target
+knccancreatefoldersonserver
+property
+rv
+createfoldercancreatefoldersonservernode
+folder
+target
+knccanfilemessagesonserver
+property
+rv
+createfoldercanfilemessagesonservernode
+folder
+target
+kncisserver
+property
+rv
+createfolderisservernode
+folder
+target
+kncissecure
+property
+rv
+createfolderissecurenode
+folder
+target
+knccansubscribe
+property
+rv
+createfoldercansubscribenode
+folder
+target
+kncsupportsoffline
+property
+rv
+createfoldersupportsofflinenode
+folder
+target
+knccanfilemessages
+property
+rv
+createfoldercanfilemessagesnode
+folder
+target
+knccancreatesubfolders
+property
+rv
+createfoldercancreatesubfoldersnode
+folder
+target
+knccanrename
+property
+rv
+createfoldercanrenamenode
+folder
+target
+knccancompact
+property
+rv
+createfoldercancompactnode
+folder
+target
+knctotalmessages
+property
+rv
+createtotalmessagesnode
+folder
+target
+knctotalunreadmessages
+property
+rv
+createunreadmessagesnode
+folder
+target
+kncfoldersize
+property
+rv
+createfoldersizenode
+folder
+target
+knccharset
+property
+rv
+createcharsetnode
+folder
+target
+kncbiffstate
+property
+rv
+createbiffstatenodefromfolder
+folder
+target
+knchasunreadmessages
+property
+rv
+createhasunreadmessagesnode
+folder
+prfalse
+target
+kncnewmessages
+property
+rv
+createnewmessagesnode
+folder
+target
+kncsubfoldershaveunreadmessages
+property
+rv
+createhasunreadmessagesnode
+folder
+prtrue
+target
+kncchild
+property
+rv
+createfolderchildnode
+folder
+target
+kncnoselect
+property
+rv
+createfoldernoselectnode
+folder
+target
+kncimapshared
+property
+rv
+createfolderimapsharednode
+folder
+target
+kncsynchronize
+property
+rv
+createfoldersynchronizenode
+folder
+target
+kncsyncdisabled
+property
+rv
+createfoldersyncdisablednode
+folder
+target
+knccansearchmessages
+property
+rv
+createcansearchmessages
+folder
+target
+nsfailed
+rv
+nsrdfnovalue
+rv
+nsresult
+nsmsgfolderdatasource
+createfoldernamenode
+nsimsgfolder
+folder
+nsirdfnode
+target
+prbool
+sort
+nsresult
+rv
+sort
+pruint
+sortkey
+nsnull
+pruint
+sortkeylength
+rv
+folder
+getsortkey
+sortkey
+sortkeylength
+nsensuresuccess
+rv
+rv
+createblobnode
+sortkey
+sortkeylength
+target
+getrdfservice
+prfree
+sortkey
+nsxpidlstring
+name
+rv
+folder
+getname
+gettercopies
+name
+nsfailed
+rv
+rv
+createnode
+name
+get
+target
+getrdfservice
+nsok
+nsresult
+nsmsgfolderdatasource
+createfoldertreenamenode
+nsimsgfolder
+folder
+nsirdfnode
+target
+nsxpidlstring
+name
+nsresult
+rv
+folder
+getabbreviatedname
+gettercopies
+name
+nsfailed
+rv
+rv
+nsautostring
+namestring
+name
+print
+unreadmessages
+rv
+folder
+getnumunread
+prfalse
+unreadmessages
+nssucceeded
+rv
+createunreadmessagesnamestring
+unreadmessages
+namestring
+createnode
+namestring
+get
+target
+getrdfservice
+nsok
+nsresult
+nsmsgfolderdatasource
+createfoldertreesimplenamenode
+nsimsgfolder
+folder
+nsirdfnode
+target
+nsxpidlstring
+name
+nsresult
+rv
+folder
+getabbreviatedname
+gettercopies
+name
+nsfailed
+rv
+rv
+createnode
+name
+get
+target
+getrdfservice
+nsok
+nsresult
+nsmsgfolderdatasource
+createunreadmessagesnamestring
+print
+unreadmessages
+nsautostring
+namestring
+unreadmessages
+namestring
+append
+nsliteralstring
+get
+namestring
+appendint
+unreadmessages
+namestring
+append
+nsliteralstring
+get
+nsok
+nsresult
+nsmsgfolderdatasource
+createfolderspecialnode
+nsimsgfolder
+folder
+nsirdfnode
+target
+pruint
+flags
+nsresult
+rv
+folder
+getflags
+flags
+nsfailed
+rv
+rv
+nsautostring
+specialfolderstring
+flags
+msgfolderflaginbox
+specialfolderstring
+nsliteralstring
+inbox
+flags
+msgfolderflagtrash
+specialfolderstring
+nsliteralstring
+trash
+flags
+msgfolderflagqueue
+specialfolderstring
+nsliteralstring
+unsent
+messages
+flags
+msgfolderflagsentmail
+specialfolderstring
+nsliteralstring
+sent
+flags
+msgfolderflagdrafts
+specialfolderstring
+nsliteralstring
+drafts
+flags
+msgfolderflagtemplates
+specialfolderstring
+nsliteralstring
+templates
+flags
+msgfolderflagjunk
+specialfolderstring
+nsliteralstring
+junk
+specialfolderstring
+nsliteralstring
+none
+createnode
+specialfolderstring
+get
+target
+getrdfservice
+nsok
+nsresult
+nsmsgfolderdatasource
+createfolderservertypenode
+nsimsgfolder
+folder
+nsirdfnode
+target
+nsresult
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+folder
+getserver
+getteraddrefs
+server
+nsfailed
+rv
+server
+nserrorfailure
+nsxpidlcstring
+servertype
+rv
+server
+gettype
+gettercopies
+servertype
+nsfailed
+rv
+rv
+createnode
+nsconvertasciitoucs
+servertype
+get
+target
+getrdfservice
+nsok
+nsresult
+nsmsgfolderdatasource
+createfolderredirectortypenode
+nsimsgfolder
+folder
+nsirdfnode
+target
+nsresult
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+folder
+getserver
+getteraddrefs
+server
+nsfailed
+rv
+server
+nserrorfailure
+nsxpidlcstring
+redirectortype
+rv
+server
+getredirectortype
+gettercopies
+redirectortype
+nsfailed
+rv
+rv
+createnode
+nsconvertasciitoucs
+redirectortype
+get
+target
+getrdfservice
+nsok
+nsresult
+nsmsgfolderdatasource
+createfoldercancreatefoldersonservernode
+nsimsgfolder
+folder
+nsirdfnode
+target
+nsresult
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+folder
+getserver
+getteraddrefs
+server
+nsfailed
+rv
+server
+nserrorfailure
+prbool
+cancreatefoldersonserver
+rv
+server
+getcancreatefoldersonserver
+cancreatefoldersonserver
+nsfailed
+rv
+rv
+cancreatefoldersonserver
+target
+ktrueliteral
+target
+kfalseliteral
+nsifaddref
+target
+nsok
+nsresult
+nsmsgfolderdatasource
+createfoldercanfilemessagesonservernode
+nsimsgfolder
+folder
+nsirdfnode
+target
+nsresult
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+folder
+getserver
+getteraddrefs
+server
+nsfailed
+rv
+server
+nserrorfailure
+prbool
+canfilemessagesonserver
+rv
+server
+getcanfilemessagesonserver
+canfilemessagesonserver
+nsfailed
+rv
+rv
+canfilemessagesonserver
+target
+ktrueliteral
+target
+kfalseliteral
+nsifaddref
+target
+nsok
+nsresult
+nsmsgfolderdatasource
+createfolderisservernode
+nsimsgfolder
+folder
+nsirdfnode
+target
+nsresult
+rv
+prbool
+isserver
+rv
+folder
+getisserver
+isserver
+nsfailed
+rv
+rv
+target
+nsnull
+isserver
+target
+ktrueliteral
+target
+kfalseliteral
+nsifaddref
+target
+nsok
+nsresult
+nsmsgfolderdatasource
+createfoldernoselectnode
+nsimsgfolder
+folder
+nsirdfnode
+target
+nsresult
+rv
+prbool
+noselect
+rv
+folder
+getnoselect
+noselect
+nsfailed
+rv
+rv
+target
+nsnull
+noselect
+target
+ktrueliteral
+target
+kfalseliteral
+nsifaddref
+target
+nsok
+nsresult
+nsmsgfolderdatasource
+createfolderimapsharednode
+nsimsgfolder
+folder
+nsirdfnode
+target
+nsresult
+rv
+prbool
+imapshared
+rv
+folder
+getimapshared
+imapshared
+nsfailed
+rv
+rv
+target
+nsnull
+imapshared
+target
+ktrueliteral
+target
+kfalseliteral
+nsifaddref
+target
+nsok
+nsresult
+nsmsgfolderdatasource
+createfoldersynchronizenode
+nsimsgfolder
+folder
+nsirdfnode
+target
+nsresult
+rv
+prbool
+sync
+rv
+folder
+getflag
+msgfolderflagoffline
+sync
+nsfailed
+rv
+rv
+target
+nsnull
+sync
+target
+ktrueliteral
+target
+kfalseliteral
+nsifaddref
+target
+nsok
+nsresult
+nsmsgfolderdatasource
+createfoldersyncdisablednode
+nsimsgfolder
+folder
+nsirdfnode
+target
+nsresult
+rv
+prbool
+isserver
+nscomptr
+nsimsgincomingserver
+server
+rv
+folder
+getisserver
+isserver
+nsfailed
+rv
+rv
+rv
+folder
+getserver
+getteraddrefs
+server
+nsfailed
+rv
+server
+nserrorfailure
+nsxpidlcstring
+servertype
+rv
+server
+gettype
+gettercopies
+servertype
+nsfailed
+rv
+rv
+target
+nsnull
+nscrt
+strcasecmp
+servertype
+none
+nscrt
+strcasecmp
+servertype
+pop
+isserver
+target
+ktrueliteral
+target
+kfalseliteral
+nsifaddref
+target
+nsok
+nsresult
+nsmsgfolderdatasource
+createcansearchmessages
+nsimsgfolder
+folder
+nsirdfnode
+target
+nsresult
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+folder
+getserver
+getteraddrefs
+server
+nsfailed
+rv
+server
+nserrorfailure
+prbool
+cansearchmessages
+rv
+server
+getcansearchmessages
+cansearchmessages
+nsfailed
+rv
+rv
+cansearchmessages
+target
+ktrueliteral
+target
+kfalseliteral
+nsifaddref
+target
+nsok
+nsresult
+nsmsgfolderdatasource
+createfolderopennode
+nsimsgfolder
+folder
+nsirdfnode
+target
+nsensureargpointer
+target
+nscomptr
+nsienumerator
+subfolders
+nsresult
+rv
+folder
+getsubfolders
+getteraddrefs
+subfolders
+nsfailed
+rv
+nsrdfnovalue
+prbool
+closed
+rv
+folder
+getflag
+msgfolderflagelided
+closed
+nsfailed
+rv
+rv
+closed
+target
+kfalseliteral
+target
+ktrueliteral
+nsifaddref
+target
+nsok
+nsresult
+nsmsgfolderdatasource
+createfolderissecurenode
+nsimsgfolder
+folder
+nsirdfnode
+target
+nsresult
+rv
+prbool
+issecure
+nscomptr
+nsimsgincomingserver
+server
+rv
+folder
+getserver
+getteraddrefs
+server
+nsfailed
+rv
+server
+issecure
+prfalse
+rv
+server
+getissecure
+issecure
+nsfailed
+rv
+rv
+target
+nsnull
+issecure
+target
+ktrueliteral
+target
+kfalseliteral
+nsifaddref
+target
+nsok
+nsresult
+nsmsgfolderdatasource
+createfoldercansubscribenode
+nsimsgfolder
+folder
+nsirdfnode
+target
+nsresult
+rv
+prbool
+cansubscribe
+rv
+folder
+getcansubscribe
+cansubscribe
+nsfailed
+rv
+rv
+target
+nsnull
+cansubscribe
+target
+ktrueliteral
+target
+kfalseliteral
+nsifaddref
+target
+nsok
+nsresult
+nsmsgfolderdatasource
+createfoldersupportsofflinenode
+nsimsgfolder
+folder
+nsirdfnode
+target
+nsresult
+rv
+prbool
+supportsoffline
+rv
+folder
+getsupportsoffline
+supportsoffline
+nsensuresuccess
+rv
+rv
+target
+nsnull
+supportsoffline
+target
+ktrueliteral
+target
+kfalseliteral
+nsifaddref
+target
+nsok
+nsresult
+nsmsgfolderdatasource
+createfoldercanfilemessagesnode
+nsimsgfolder
+folder
+nsirdfnode
+target
+nsresult
+rv
+prbool
+canfilemessages
+rv
+folder
+getcanfilemessages
+canfilemessages
+nsfailed
+rv
+rv
+target
+nsnull
+canfilemessages
+target
+ktrueliteral
+target
+kfalseliteral
+nsifaddref
+target
+nsok
+nsresult
+nsmsgfolderdatasource
+createfoldercancreatesubfoldersnode
+nsimsgfolder
+folder
+nsirdfnode
+target
+nsresult
+rv
+prbool
+cancreatesubfolders
+rv
+folder
+getcancreatesubfolders
+cancreatesubfolders
+nsfailed
+rv
+rv
+target
+nsnull
+cancreatesubfolders
+target
+ktrueliteral
+target
+kfalseliteral
+nsifaddref
+target
+nsok
+nsresult
+nsmsgfolderdatasource
+createfoldercanrenamenode
+nsimsgfolder
+folder
+nsirdfnode
+target
+nsresult
+rv
+prbool
+canrename
+rv
+folder
+getcanrename
+canrename
+nsfailed
+rv
+rv
+target
+nsnull
+canrename
+target
+ktrueliteral
+target
+kfalseliteral
+nsifaddref
+target
+nsok
+nsresult
+nsmsgfolderdatasource
+createfoldercancompactnode
+nsimsgfolder
+folder
+nsirdfnode
+target
+nsresult
+rv
+prbool
+cancompact
+rv
+folder
+getcancompact
+cancompact
+nsfailed
+rv
+rv
+target
+nsnull
+cancompact
+target
+ktrueliteral
+target
+kfalseliteral
+nsifaddref
+target
+nsok
+nsresult
+nsmsgfolderdatasource
+createtotalmessagesnode
+nsimsgfolder
+folder
+nsirdfnode
+target
+nsresult
+rv
+prbool
+isserver
+rv
+folder
+getisserver
+isserver
+nsfailed
+rv
+rv
+print
+totalmessages
+isserver
+totalmessages
+kdisplayblankcount
+rv
+folder
+gettotalmessages
+prfalse
+totalmessages
+nsfailed
+rv
+rv
+getnummessagesnode
+totalmessages
+target
+rv
+nsresult
+nsmsgfolderdatasource
+createfoldersizenode
+nsimsgfolder
+folder
+nsirdfnode
+target
+prbool
+isserver
+nsresult
+rv
+folder
+getisserver
+isserver
+nsensuresuccess
+rv
+rv
+print
+foldersize
+isserver
+foldersize
+kdisplayblankcount
+rv
+folder
+getsizeondisk
+pruint
+foldersize
+nsensuresuccess
+rv
+rv
+getfoldersizenode
+foldersize
+target
+rv
+nsresult
+nsmsgfolderdatasource
+createcharsetnode
+nsimsgfolder
+folder
+nsirdfnode
+target
+nsxpidlcstring
+charset
+nsresult
+rv
+folder
+getcharset
+gettercopies
+charset
+nssucceeded
+rv
+createnode
+nsconvertasciitoucs
+charset
+get
+target
+getrdfservice
+createnode
+nsliteralstring
+get
+target
+getrdfservice
+nsok
+nsresult
+nsmsgfolderdatasource
+createbiffstatenodefromfolder
+nsimsgfolder
+folder
+nsirdfnode
+target
+nsresult
+rv
+pruint
+biffstate
+rv
+folder
+getbiffstate
+biffstate
+nsfailed
+rv
+rv
+rv
+createbiffstatenodefromflag
+biffstate
+target
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsmsgfolderdatasource
+createbiffstatenodefromflag
+pruint
+flag
+nsirdfnode
+target
+prunichar
+biffstatestr
+flag
+nsimsgfolder
+nsmsgbiffstatenewmail
+biffstatestr
+nsliteralstring
+newmail
+get
+nsimsgfolder
+nsmsgbiffstatenomail
+biffstatestr
+nsliteralstring
+nomail
+get
+biffstatestr
+nsliteralstring
+unknownmail
+get
+createnode
+biffstatestr
+target
+getrdfservice
+nsok
+nsresult
+nsmsgfolderdatasource
+createunreadmessagesnode
+nsimsgfolder
+folder
+nsirdfnode
+target
+nsresult
+rv
+prbool
+isserver
+rv
+folder
+getisserver
+isserver
+nsfailed
+rv
+rv
+print
+totalunreadmessages
+isserver
+totalunreadmessages
+kdisplayblankcount
+rv
+folder
+getnumunread
+prfalse
+totalunreadmessages
+nsfailed
+rv
+rv
+getnummessagesnode
+totalunreadmessages
+target
+nsok
+nsresult
+nsmsgfolderdatasource
+createhasunreadmessagesnode
+nsimsgfolder
+folder
+prbool
+aincludesubfolders
+nsirdfnode
+target
+nsresult
+rv
+prbool
+isserver
+rv
+folder
+getisserver
+isserver
+nsfailed
+rv
+rv
+target
+kfalseliteral
+print
+totalunreadmessages
+isserver
+rv
+folder
+getnumunread
+aincludesubfolders
+totalunreadmessages
+nsfailed
+rv
+rv
+aincludesubfolders
+print
+numunreadinfolder
+rv
+folder
+getnumunread
+prfalse
+numunreadinfolder
+nsensuresuccess
+rv
+rv
+numunreadinfolder
+totalunreadmessages
+numunreadinfolder
+totalunreadmessages
+target
+ktrueliteral
+target
+kfalseliteral
+nsifaddref
+target
+nsok
+nsresult
+nsmsgfolderdatasource
+onunreadmessagepropertychanged
+nsimsgfolder
+folder
+print
+oldvalue
+print
+newvalue
+nscomptr
+nsirdfresource
+folderresource
+doqueryinterface
+folder
+folderresource
+nscomptr
+nsirdfnode
+newnode
+getnummessagesnode
+newvalue
+getteraddrefs
+newnode
+notifypropertychanged
+folderresource
+knctotalunreadmessages
+newnode
+oldvalue
+newvalue
+notifypropertychanged
+folderresource
+knchasunreadmessages
+ktrueliteral
+notifyancestors
+folder
+kncsubfoldershaveunreadmessages
+ktrueliteral
+oldvalue
+newvalue
+notifypropertychanged
+folderresource
+knchasunreadmessages
+kfalseliteral
+notifyancestors
+folder
+kncsubfoldershaveunreadmessages
+kfalseliteral
+notifyfoldertreenamechanged
+folder
+newvalue
+nsok
+nsresult
+nsmsgfolderdatasource
+notifyfoldernamechanged
+nsimsgfolder
+afolder
+nsxpidlstring
+name
+nsresult
+rv
+afolder
+getname
+gettercopies
+name
+nssucceeded
+rv
+nscomptr
+nsirdfnode
+newnamenode
+createnode
+name
+get
+getteraddrefs
+newnamenode
+getrdfservice
+nscomptr
+nsirdfresource
+folderresource
+doqueryinterface
+afolder
+notifypropertychanged
+folderresource
+kncname
+newnamenode
+nsok
+nsresult
+nsmsgfolderdatasource
+notifyfoldertreesimplenamechanged
+nsimsgfolder
+afolder
+nsxpidlstring
+abbreviatedname
+nsresult
+rv
+afolder
+getabbreviatedname
+gettercopies
+abbreviatedname
+nssucceeded
+rv
+nscomptr
+nsirdfnode
+newnamenode
+createnode
+abbreviatedname
+get
+getteraddrefs
+newnamenode
+getrdfservice
+nscomptr
+nsirdfresource
+folderresource
+doqueryinterface
+afolder
+notifypropertychanged
+folderresource
+kncfoldertreesimplename
+newnamenode
+nsok
+nsresult
+nsmsgfolderdatasource
+notifyfoldertreenamechanged
+nsimsgfolder
+afolder
+print
+aunreadmessages
+nsxpidlstring
+name
+nsresult
+rv
+afolder
+getabbreviatedname
+gettercopies
+name
+nssucceeded
+rv
+nsautostring
+newnamestring
+name
+createunreadmessagesnamestring
+aunreadmessages
+newnamestring
+nscomptr
+nsirdfnode
+newnamenode
+createnode
+newnamestring
+get
+getteraddrefs
+newnamenode
+getrdfservice
+nscomptr
+nsirdfresource
+folderresource
+doqueryinterface
+afolder
+notifypropertychanged
+folderresource
+kncfoldertreename
+newnamenode
+nsok
+nsresult
+nsmsgfolderdatasource
+notifyancestors
+nsimsgfolder
+afolder
+nsirdfresource
+apropertyresource
+nsirdfnode
+anode
+prbool
+isserver
+prfalse
+nsresult
+rv
+afolder
+getisserver
+isserver
+nsensuresuccess
+rv
+rv
+isserver
+nsok
+nscomptr
+nsimsgfolder
+parentmsgfolder
+rv
+afolder
+getparentmsgfolder
+getteraddrefs
+parentmsgfolder
+nsensuresuccess
+rv
+rv
+parentmsgfolder
+nsok
+rv
+parentmsgfolder
+getisserver
+isserver
+nsensuresuccess
+rv
+rv
+isserver
+nsok
+nscomptr
+nsirdfresource
+parentfolderresource
+doqueryinterface
+parentmsgfolder
+rv
+nsensuresuccess
+rv
+rv
+notifypropertychanged
+parentfolderresource
+apropertyresource
+anode
+notifyancestors
+parentmsgfolder
+apropertyresource
+anode
+nsresult
+nsmsgfolderdatasource
+createnewmessagesnode
+nsimsgfolder
+folder
+nsirdfnode
+target
+nsresult
+rv
+prbool
+isserver
+rv
+folder
+getisserver
+isserver
+nsfailed
+rv
+rv
+target
+kfalseliteral
+prbool
+isnewmessages
+isserver
+rv
+folder
+gethasnewmessages
+isnewmessages
+nsfailed
+rv
+rv
+isnewmessages
+target
+ktrueliteral
+target
+kfalseliteral
+nsifaddref
+target
+nsok
+nsresult
+nsmsgfolderdatasource
+onfoldersizepropertychanged
+nsimsgfolder
+folder
+print
+oldvalue
+print
+newvalue
+nscomptr
+nsirdfresource
+folderresource
+doqueryinterface
+folder
+folderresource
+nscomptr
+nsirdfnode
+newnode
+getfoldersizenode
+newvalue
+getteraddrefs
+newnode
+notifypropertychanged
+folderresource
+kncfoldersize
+newnode
+nsok
+nsresult
+nsmsgfolderdatasource
+ontotalmessagepropertychanged
+nsimsgfolder
+folder
+print
+oldvalue
+print
+newvalue
+nscomptr
+nsirdfresource
+folderresource
+doqueryinterface
+folder
+folderresource
+nscomptr
+nsirdfnode
+newnode
+getnummessagesnode
+newvalue
+getteraddrefs
+newnode
+notifypropertychanged
+folderresource
+knctotalmessages
+newnode
+nsok
+nsresult
+nsmsgfolderdatasource
+getnummessagesnode
+print
+anummessages
+nsirdfnode
+node
+pruint
+nummessages
+anummessages
+nummessages
+kdisplayquestioncount
+createnode
+nsliteralstring
+get
+node
+getrdfservice
+nummessages
+kdisplayblankcount
+nummessages
+createnode
+nsliteralstring
+get
+node
+getrdfservice
+createintnode
+nummessages
+node
+getrdfservice
+nsok
+nsresult
+nsmsgfolderdatasource
+getfoldersizenode
+print
+afoldersize
+nsirdfnode
+anode
+pruint
+foldersize
+afoldersize
+foldersize
+kdisplayblankcount
+foldersize
+createnode
+nsliteralstring
+get
+anode
+getrdfservice
+foldersize
+kdisplayquestioncount
+createnode
+nsliteralstring
+get
+anode
+getrdfservice
+nsautostring
+sizestring
+foldersize
+foldersize
+foldersize
+prbool
+sizeinmb
+foldersize
+sizestring
+appendint
+sizeinmb
+foldersize
+foldersize
+nsautostring
+units
+sizeinmb
+units
+nsliteralstring
+mb
+units
+nsliteralstring
+kb
+sizestring
+append
+units
+createnode
+sizestring
+get
+anode
+getrdfservice
+nsok
+nsresult
+nsmsgfolderdatasource
+createfolderchildnode
+nsimsgfolder
+folder
+nsirdfnode
+target
+nscomptr
+nsienumerator
+subfolders
+nsresult
+rv
+folder
+getsubfolders
+getteraddrefs
+subfolders
+nsfailed
+rv
+nsrdfnovalue
+rv
+subfolders
+first
+nssucceeded
+rv
+nscomptr
+nsisupports
+firstfolder
+rv
+subfolders
+currentitem
+getteraddrefs
+firstfolder
+nssucceeded
+rv
+firstfolder
+queryinterface
+nsgetiid
+nsirdfresource
+target
+nsfailed
+rv
+nsrdfnovalue
+rv
+nsresult
+nsmsgfolderdatasource
+docopytofolder
+nsimsgfolder
+dstfolder
+nsisupportsarray
+arguments
+nsimsgwindow
+msgwindow
+prbool
+ismove
+nsresult
+rv
+pruint
+itemcount
+rv
+arguments
+count
+itemcount
+nsfailed
+rv
+rv
+itemcount
+nserrorfailure
+nscomptr
+nsimsgfolder
+srcfolder
+doqueryelementat
+arguments
+srcfolder
+nserrorfailure
+arguments
+removeelementat
+itemcount
+nscomptr
+nsisupportsarray
+messagearray
+nsnewisupportsarray
+getteraddrefs
+messagearray
+pruint
+itemcount
+nscomptr
+nsisupports
+supports
+getteraddrefs
+arguments
+elementat
+nscomptr
+nsimsgdbhdr
+message
+doqueryinterface
+supports
+message
+messagearray
+appendelement
+supports
+nscomptr
+nsimsgcopyservice
+copyservice
+dogetservice
+nsmsgcopyservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+copyservice
+copymessages
+srcfolder
+messagearray
+dstfolder
+ismove
+nsnull
+msgwindow
+prtrue
+nsresult
+nsmsgfolderdatasource
+dofoldercopytofolder
+nsimsgfolder
+dstfolder
+nsisupportsarray
+arguments
+nsimsgwindow
+msgwindow
+prbool
+ismovefolder
+nsresult
+rv
+pruint
+itemcount
+rv
+arguments
+count
+itemcount
+nsfailed
+rv
+rv
+itemcount
+nserrorfailure
+ismovefolder
+nscomptr
+nsimsgcopyservice
+copyservice
+dogetservice
+nsmsgcopyservicecontractid
+rv
+nssucceeded
+rv
+rv
+copyservice
+copyfolders
+arguments
+dstfolder
+ismovefolder
+nsnull
+msgwindow
+nscomptr
+nsimsgfolder
+msgfolder
+pruint
+itemcount
+msgfolder
+doqueryelementat
+arguments
+rv
+nssucceeded
+rv
+rv
+dstfolder
+copyfolder
+msgfolder
+ismovefolder
+msgwindow
+nsnull
+nsassertion
+nssucceeded
+rv
+copy
+folder
+failed
+rv
+nsresult
+nsmsgfolderdatasource
+dodeletefromfolder
+nsimsgfolder
+folder
+nsisupportsarray
+arguments
+nsimsgwindow
+msgwindow
+prbool
+reallydelete
+nsresult
+rv
+nsok
+pruint
+itemcount
+rv
+arguments
+count
+itemcount
+nsfailed
+rv
+rv
+nscomptr
+nsisupportsarray
+messagearray
+folderarray
+nsnewisupportsarray
+getteraddrefs
+messagearray
+nsnewisupportsarray
+getteraddrefs
+folderarray
+pruint
+item
+item
+itemcount
+item
+nscomptr
+nsisupports
+supports
+getteraddrefs
+arguments
+elementat
+item
+nscomptr
+nsimsgdbhdr
+deletedmessage
+doqueryinterface
+supports
+nscomptr
+nsimsgfolder
+deletedfolder
+doqueryinterface
+supports
+deletedmessage
+messagearray
+appendelement
+supports
+deletedfolder
+folderarray
+appendelement
+supports
+pruint
+cnt
+rv
+messagearray
+count
+cnt
+nsfailed
+rv
+rv
+cnt
+rv
+folder
+deletemessages
+messagearray
+msgwindow
+reallydelete
+prfalse
+nsnull
+prtrue
+rv
+folderarray
+count
+cnt
+nsfailed
+rv
+rv
+cnt
+rv
+folder
+deletesubfolders
+folderarray
+msgwindow
+rv
+nsresult
+nsmsgfolderdatasource
+donewfolder
+nsimsgfolder
+folder
+nsisupportsarray
+arguments
+nsresult
+rv
+nsok
+nscomptr
+nsirdfliteral
+literal
+doqueryelementat
+arguments
+rv
+nssucceeded
+rv
+nsxpidlstring
+name
+literal
+getvalue
+gettercopies
+name
+rv
+folder
+createsubfolder
+name
+mwindow
+rv
+nsresult
+nsmsgfolderdatasource
+dofolderassert
+nsimsgfolder
+folder
+nsirdfresource
+property
+nsirdfnode
+target
+nsresult
+rv
+nserrorfailure
+knccharset
+property
+nscomptr
+nsirdfliteral
+literal
+doqueryinterface
+target
+literal
+prunichar
+value
+rv
+literal
+getvalueconst
+value
+nssucceeded
+rv
+rv
+folder
+setcharset
+nslossyconvertucstoascii
+value
+get
+rv
+nserrorfailure
+kncopen
+property
+target
+ktrueliteral
+rv
+folder
+clearflag
+msgfolderflagelided
+rv
+nsresult
+nsmsgfolderdatasource
+dofolderunassert
+nsimsgfolder
+folder
+nsirdfresource
+property
+nsirdfnode
+target
+nsresult
+rv
+nserrorfailure
+kncopen
+property
+target
+ktrueliteral
+rv
+folder
+setflag
+msgfolderflagelided
+rv
+nsresult
+nsmsgfolderdatasource
+dofolderhasassertion
+nsimsgfolder
+folder
+nsirdfresource
+property
+nsirdfnode
+target
+prbool
+tv
+prbool
+hasassertion
+nsresult
+rv
+nsok
+hasassertion
+nserrornullpointer
+tv
+hasassertion
+prfalse
+nsok
+kncchild
+property
+nscomptr
+nsifolder
+childfolder
+doqueryinterface
+target
+rv
+nssucceeded
+rv
+nscomptr
+nsifolder
+folderasfolder
+doqueryinterface
+folder
+nscomptr
+nsifolder
+childsparent
+rv
+childfolder
+getparent
+getteraddrefs
+childsparent
+hasassertion
+nssucceeded
+rv
+childsparent
+folderasfolder
+childsparent
+get
+folderasfolder
+get
+kncname
+property
+kncopen
+property
+kncfoldertreename
+property
+kncfoldertreesimplename
+property
+kncspecialfolder
+property
+kncservertype
+property
+kncredirectortype
+property
+knccancreatefoldersonserver
+property
+knccanfilemessagesonserver
+property
+kncisserver
+property
+kncissecure
+property
+knccansubscribe
+property
+kncsupportsoffline
+property
+knccanfilemessages
+property
+knccancreatesubfolders
+property
+knccanrename
+property
+knccancompact
+property
+knctotalmessages
+property
+knctotalunreadmessages
+property
+kncfoldersize
+property
+knccharset
+property
+kncbiffstate
+property
+knchasunreadmessages
+property
+kncnoselect
+property
+kncsynchronize
+property
+kncsyncdisabled
+property
+knccansearchmessages
+property
+nscomptr
+nsirdfresource
+folderresource
+doqueryinterface
+folder
+rv
+nsfailed
+rv
+rv
+rv
+gettargethasassertion
+folderresource
+property
+tv
+target
+hasassertion
+hasassertion
+prfalse
+rv nsresult
\ No newline at end of file
@@ -0,0 +1,1160 @@
+nscore
+nscomptr
+nsicomponentmanager
+nsisupports
+nsiuri
+nsescape
+nsxpidlstring
+nsreadableutils
+nsiwebshell
+nsidocshell
+nsidomdocument
+nsidomwindowinternal
+nsidocumentviewer
+nsiprescontext
+nsipresshell
+nsidocument
+nsimsgmessageservice
+nsmsgutils
+nsiwebprogress
+nsiinterfacerequestor
+nsiinterfacerequestorutils
+nsimarkupdocumentviewer
+nsimsgmailsession
+nsmsgprintengine
+nsmsgbasecid
+nsidocumentloader
+nsiwebshellwindow
+nsiwidget
+nsiwebshellwindow
+nsipref
+plevent
+nsieventqueue
+nsieventqueueservice
+nsiservicemanager
+nsibasewindow
+nsidocshelltreeowner
+nsidocshelltreeitem
+nsidocshelltreenode
+nsiwebnavigation
+nsichannel
+nsicontentviewerfile
+nsiprintingpromptservice
+kprintingpromptservice
+embedcomp
+printingprompt
+service
+nsmsgprintengine
+nsmsgprintengine
+misdoingprintpreview
+prfalse
+mmsginx
+nsimsgprintengine
+mnabstart
+mcurrentlyprintinguri
+nsmsgprintengine
+nsmsgprintengine
+nsimplisupports
+nsmsgprintengine
+nsimsgprintengine
+nsiwebprogresslistener
+nsiobserver
+nsisupportsweakreference
+nsimethodimp
+nsmsgprintengine
+onstatechange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+pruint
+progressstateflags
+nsresult
+astatus
+nsresult
+rv
+nsok
+progressstateflags
+nsiwebprogresslistener
+stateisdocument
+progressstateflags
+nsiwebprogresslistener
+statestart
+prunichar
+msg
+getstring
+nsliteralstring
+loadingmessagetoprint
+get
+setstatusmessage
+msg
+crtfreeif
+msg
+progressstateflags
+nsiwebprogresslistener
+statestop
+nscomptr
+nsidocumentloader
+docloader
+doqueryinterface
+awebprogress
+docloader
+nscomptr
+nsisupports
+container
+docloader
+getcontainer
+getteraddrefs
+container
+nscomptr
+nsidomwindow
+domwindow
+dogetinterface
+container
+domwindow
+get
+mmsgdomwin
+get
+nsok
+nscomptr
+nsiwebprogresslistener
+wpl
+doqueryinterface
+mprintpromptservice
+wpl
+wpl
+onstatechange
+nsnull
+nsnull
+nsiwebprogresslistener
+statestop
+nsiwebprogresslistener
+stateisdocument
+nsnull
+mprintprogresslistener
+nsnull
+mprintprogress
+nsnull
+mprintprogressparams
+nsnull
+prbool
+isprintingcancelled
+prfalse
+mprintsettings
+mprintsettings
+getiscancelled
+isprintingcancelled
+isprintingcancelled
+docloader
+rv
+nserrorfailure
+prunichar
+msg
+getstring
+nsliteralstring
+messageloaded
+get
+setstatusmessage
+msg
+msg
+nscrt
+free
+msg
+nsassertion
+mdocshell
+can
+print
+there
+is
+no
+docshell
+mdocshell
+arequest
+startnextprintoperation
+nscomptr
+nsichannel
+achannel
+doqueryinterface
+arequest
+achannel
+nserrorfailure
+nscomptr
+nsiuri
+originaluri
+nsnull
+nssucceeded
+achannel
+getoriginaluri
+getteraddrefs
+originaluri
+originaluri
+nscautostring
+spec
+nssucceeded
+originaluri
+getspec
+spec
+spec
+equals
+about
+blank
+startnextprintoperation
+fireprintevent
+printmsgwindow
+firestartnextevent
+rv
+nsok
+mwindow
+close
+rv
+nsimethodimp
+nsmsgprintengine
+onprogresschange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+print
+acurselfprogress
+print
+amaxselfprogress
+print
+acurtotalprogress
+print
+amaxtotalprogress
+nsok
+nsimethodimp
+nsmsgprintengine
+onlocationchange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+nsiuri
+location
+nsnotreached
+notification
+excluded
+in
+addprogresslistener
+nsok
+nsimethodimp
+nsmsgprintengine
+onstatuschange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+nsresult
+astatus
+prunichar
+amessage
+nsok
+nsimethodimp
+nsmsgprintengine
+onsecuritychange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+pruint
+state
+nsnotreached
+notification
+excluded
+in
+addprogresslistener
+nsok
+nsimethodimp
+nsmsgprintengine
+setwindow
+nsidomwindowinternal
+awin
+awin
+nsok
+mwindow
+awin
+nscomptr
+nsiscriptglobalobject
+globalobj
+doqueryinterface
+awin
+nsensuretrue
+globalobj
+nserrorfailure
+nscomptr
+nsidocshell
+docshell
+globalobj
+getdocshell
+getteraddrefs
+docshell
+nscomptr
+nsidocshelltreeitem
+docshellasitem
+doqueryinterface
+docshell
+nsensuretrue
+docshellasitem
+nserrorfailure
+nscomptr
+nsidocshelltreeitem
+rootasitem
+docshellasitem
+getsametyperoottreeitem
+getteraddrefs
+rootasitem
+nscomptr
+nsidocshelltreenode
+rootasnode
+doqueryinterface
+rootasitem
+nsensuretrue
+rootasnode
+nserrorfailure
+nscomptr
+nsidocshelltreeitem
+childitem
+rootasnode
+findchildwithname
+nsliteralstring
+content
+get
+prtrue
+prfalse
+nsnull
+getteraddrefs
+childitem
+mdocshell
+doqueryinterface
+childitem
+mdocshell
+setupobserver
+nsok
+nsimethodimp
+nsmsgprintengine
+setparentwindow
+nsidomwindowinternal
+ptr
+mparentwindow
+ptr
+nsok
+nsimethodimp
+nsmsgprintengine
+showwindow
+prbool
+ashow
+nsresult
+rv
+nsensuretrue
+mwindow
+nserrornotinitialized
+nscomptr
+nsiscriptglobalobject
+globalscript
+doqueryinterface
+mwindow
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsidocshell
+docshell
+rv
+globalscript
+getdocshell
+getteraddrefs
+docshell
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiwebshell
+webshell
+doqueryinterface
+docshell
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiwebshellcontainer
+webshellcontainer
+rv
+webshell
+getcontainer
+getteraddrefs
+webshellcontainer
+nsensuresuccess
+rv
+rv
+webshellcontainer
+nscomptr
+nsiwebshellwindow
+webshellwindow
+doqueryinterface
+webshellcontainer
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsidocshelltreeitem
+treeitem
+doqueryinterface
+docshell
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsidocshelltreeowner
+treeowner
+rv
+treeitem
+gettreeowner
+getteraddrefs
+treeowner
+nsensuresuccess
+rv
+rv
+nscomptr
+nsibasewindow
+basewindow
+basewindow
+doqueryinterface
+treeowner
+rv
+nsensuresuccess
+rv
+rv
+rv
+basewindow
+setenabled
+ashow
+nsensuresuccess
+rv
+rv
+rv
+webshellwindow
+show
+ashow
+rv
+nsimethodimp
+nsmsgprintengine
+addprinturi
+prunichar
+amsguri
+muriarray
+appendstring
+nsdependentstring
+amsguri
+nsok
+nsimethodimp
+nsmsgprintengine
+setprinturicount
+print
+acount
+muricount
+acount
+nsok
+nsimethodimp
+nsmsgprintengine
+startprintoperation
+nsiprintsettings
+aps
+mprintsettings
+aps
+nsresult
+rv
+addprinturi
+nsliteralstring
+about
+blank
+get
+nsfailed
+rv
+rv
+startnextprintoperation
+nsresult
+nsmsgprintengine
+showprogressdialog
+prbool
+aisforprinting
+prbool
+adonotify
+nsresult
+rv
+nserrorfailure
+adonotify
+prfalse
+prbool
+showprogressdialog
+prfalse
+nscomptr
+nsiprefbranch
+prefbranch
+nscomptr
+nsiprefservice
+prefs
+dogetservice
+nsprefservicecontractid
+rv
+nssucceeded
+rv
+rv
+prefs
+getbranch
+nsnull
+getteraddrefs
+prefbranch
+nssucceeded
+rv
+prefbranch
+getboolpref
+print
+showprintprogress
+showprogressdialog
+showprogressdialog
+mprintsettings
+getshowprintprogress
+showprogressdialog
+showprogressdialog
+mprintpromptservice
+mprintpromptservice
+dogetservice
+kprintingpromptservice
+mprintpromptservice
+nscomptr
+nsidomwindow
+domwin
+doqueryinterface
+mparentwindow
+domwin
+domwin
+mwindow
+rv
+mprintpromptservice
+showprogress
+domwin
+mwebbrowserprint
+mprintsettings
+aisforprinting
+getteraddrefs
+mprintprogresslistener
+getteraddrefs
+mprintprogressparams
+adonotify
+nssucceeded
+rv
+showprogressdialog
+mprintprogresslistener
+nsnull
+mprintprogressparams
+nsnull
+showprogressdialog
+nsiwebprogresslistener
+wpl
+nsstaticcast
+nsiwebprogresslistener
+mprintprogresslistener
+get
+nsassertion
+wpl
+nsiwebprogresslistener
+is
+nsaddref
+wpl
+prunichar
+msg
+nsnull
+misdoingprintpreview
+getstring
+nsliteralstring
+loadingmailmsgforprintpreview
+get
+getstring
+nsliteralstring
+loadingmailmsgforprint
+get
+msg
+mprintprogressparams
+setdoctitle
+msg
+nscrt
+free
+msg
+rv
+nsimethodimp
+nsmsgprintengine
+startnextprintoperation
+nsresult
+rv
+mcurrentlyprintinguri
+initializedisplaycharset
+mcurrentlyprintinguri
+mcurrentlyprintinguri
+muriarray
+count
+mwindow
+close
+prunichar
+msg
+getstring
+nsliteralstring
+printingcomplete
+get
+setstatusmessage
+msg
+crtfreeif
+msg
+nsok
+mdocshell
+startnextprintoperation
+nsstring
+uri
+muriarray
+stringat
+mcurrentlyprintinguri
+rv
+firethatloadoperationstartup
+uri
+nsfailed
+rv
+startnextprintoperation
+rv
+nsimethodimp
+nsmsgprintengine
+setstatusfeedback
+nsimsgstatusfeedback
+afeedback
+mfeedback
+afeedback
+nsok
+define
+dataurlprefix
+data
+define
+dataurlprefixlen
+define
+addbookurlprefix
+addbook
+define
+addbookurlprefixlen
+nsimethodimp
+nsmsgprintengine
+firethatloadoperationstartup
+nsstring
+uri
+uri
+mloaduri
+uri
+mloaduri
+setlength
+prbool
+notify
+prfalse
+nsresult
+rv
+nserrorfailure
+mcurrentlyprintinguri
+muriarray
+count
+rv
+showprogressdialog
+misdoingprintpreview
+notify
+nsfailed
+rv
+notify
+firethatloadoperation
+uri
+nsok
+nsimethodimp
+nsmsgprintengine
+firethatloadoperation
+nsstring
+uri
+nsresult
+rv
+nsok
+tstring
+tonewcstring
+uri
+tstring
+nserroroutofmemory
+nscomptr
+nsimsgmessageservice
+messageservice
+strncmp
+tstring
+dataurlprefix
+dataurlprefixlen
+strncmp
+tstring
+addbookurlprefix
+addbookurlprefixlen
+strcmp
+tstring
+about
+blank
+strstr
+tstring
+type
+message
+display
+rv
+getmessageservicefromuri
+tstring
+getteraddrefs
+messageservice
+nssucceeded
+rv
+messageservice
+nscomptr
+nsiwebshell
+webshell
+doqueryinterface
+mdocshell
+rv
+messageservice
+displaymessageforprinting
+tstring
+webshell
+nsnull
+nsnull
+nsnull
+nscomptr
+nsiwebnavigation
+webnav
+doqueryinterface
+mdocshell
+webnav
+rv
+webnav
+loaduri
+uri
+get
+nsiwebnavigation
+loadflagsnone
+nsnull
+nsnull
+nsnull
+tstring
+nscrt
+free
+tstring
+rv
+nsmsgprintengine
+initializedisplaycharset
+mdocshell
+nscomptr
+nsicontentviewer
+cv
+mdocshell
+getcontentviewer
+getteraddrefs
+cv
+cv
+nscomptr
+nsimarkupdocumentviewer
+mudv
+doqueryinterface
+cv
+mudv
+mudv
+setforcecharacterset
+nsliteralcstring
+utf
+nsmsgprintengine
+setupobserver
+mdocshell
+mdocshell
+nscomptr
+nsiwebprogress
+progress
+dogetinterface
+mdocshell
+nsassertion
+progress
+we
+were
+expecting
+nsiwebprogress
+progress
+progress
+addprogresslistener
+nsiwebprogresslistener
+nsiwebprogress
+notifystatedocument
+mmsgdomwin
+dogetinterface
+mdocshell
+nsresult
+nsmsgprintengine
+setstatusmessage
+prunichar
+amsgstring
+mfeedback
+amsgstring
+nsok
+mfeedback
+showstatusstring
+amsgstring
+nsok
+define
+messengerstringurl
+messenger
+locale
+messenger
+properties
+prunichar
+nsmsgprintengine
+getstring
+prunichar
+astringname
+nsresult
+res
+nsok
+prunichar
+ptrv
+nsnull
+mstringbundle
+propertyurl
+messengerstringurl
+nscomptr
+nsistringbundleservice
+sbundleservice
+dogetservice
+nsstringbundlecontractid
+res
+nssucceeded
+res
+nsnull
+sbundleservice
+res
+sbundleservice
+createbundle
+propertyurl
+getteraddrefs
+mstringbundle
+mstringbundle
+res
+mstringbundle
+getstringfromname
+astringname
+ptrv
+nssucceeded
+res
+ptrv
+ptrv
+nscrt
+strdup
+astringname
+nsmsgprintengine
+printmsgwindow
+kmsgkeys
+printingmessage
+printpreviewmessage
+printingcard
+printpreviewcard
+printingaddrbook
+printpreviewaddrbook
+mdocshell
+getcontentviewer
+getteraddrefs
+mcontentviewer
+mcontentviewer
+mwebbrowserprint
+doqueryinterface
+mcontentviewer
+mwebbrowserprint
+mprintsettings
+mwebbrowserprint
+getglobalprintsettings
+getteraddrefs
+mprintsettings
+mprintsettings
+setdocurl
+nsliteralstring
+get
+nsresult
+rv
+nserrorfailure
+misdoingprintpreview
+mstartupppobs
+rv
+mstartupppobs
+observe
+nsnull
+nsnull
+nsnull
+mprintsettings
+setprintsilent
+mcurrentlyprintinguri
+nscomptr
+nsicontentviewerfile
+contentviewerfile
+doqueryinterface
+mwebbrowserprint
+contentviewerfile
+mparentwindow
+rv
+contentviewerfile
+printwithparent
+mparentwindow
+mprintsettings
+nsiwebprogresslistener
+rv
+mwebbrowserprint
+print
+mprintsettings
+nsiwebprogresslistener
+nsfailed
+rv
+mwebbrowserprint
+nsnull
+mcontentviewer
+nsnull
+prbool
+isprintingcancelled
+prfalse
+mprintsettings
+mprintsettings
+getiscancelled
+isprintingcancelled
+isprintingcancelled
+startnextprintoperation
+mwindow
+close
+prunichar
+msg
+getstring
+nsconvertasciitoucs
+kmsgkeys
+mmsginx
+get
+setstatusmessage
+msg
+crtfreeif
+msg
+prbool
+fireevent
+nsmsgprintengine
+ampe
+plhandleeventproc
+handler
+pldestroyeventproc
+destructor
+nsdefinecid
+keventqueueservicecid
+nseventqueueservicecid
+nscomptr
+nsieventqueueservice
+eventservice
+dogetservice
+keventqueueservicecid
+eventservice
+nswarning
+failed
+to
+get
+event
+queue
+service
+prfalse
+nscomptr
+nsieventqueue
+eventqueue
+eventservice
+getthreadeventqueue
+nscurrentthread
+getteraddrefs
+eventqueue
+eventqueue
+nswarning
+failed
+to
+get
+event
+queue
+from
+service
+prfalse
+plevent
+event
+plevent
+event
+nswarning
+out
+of
+memory
+prfalse
+plinitevent
+event
+ampe
+handler
+destructor
+nsaddref
+ampe
+eventqueue
+postevent
+event
+prtrue
+prcallback
+handlepleventprintmsgwindow
+plevent
+aevent
+nsmsgprintengine
+msgprintengine
+nsmsgprintengine
+plgeteventowner
+aevent
+nsassertion
+msgprintengine
+the
+event
+owner
+is
+msgprintengine
+msgprintengine
+printmsgwindow
+prcallback
+destroypleventprintmsgwindow
+plevent
+aevent
+nsmsgprintengine
+msgprintengine
+nsmsgprintengine
+plgeteventowner
+aevent
+nsifrelease
+msgprintengine
+aevent
+prbool
+nsmsgprintengine
+fireprintevent
+fireevent
+plhandleeventproc
+handlepleventprintmsgwindow
+pldestroyeventproc
+destroypleventprintmsgwindow
+prcallback
+handlepleventstartnext
+plevent
+aevent
+nsmsgprintengine
+msgprintengine
+nsmsgprintengine
+plgeteventowner
+aevent
+nsassertion
+msgprintengine
+the
+event
+owner
+is
+msgprintengine
+msgprintengine
+startnextprintoperation
+prcallback
+destroypleventstartnext
+plevent
+aevent
+nsmsgprintengine
+msgprintengine
+nsmsgprintengine
+plgeteventowner
+aevent
+nsifrelease
+msgprintengine
+aevent
+prbool
+nsmsgprintengine
+firestartnextevent
+fireevent
+plhandleeventproc
+handlepleventstartnext
+pldestroyeventproc
+destroypleventstartnext
+nsimethodimp
+nsmsgprintengine
+setstartupppobserver
+nsiobserver
+startupppobs
+mstartupppobs
+startupppobs
+nsok
+nsimethodimp
+nsmsgprintengine
+getdoprintpreview
+prbool
+adoprintpreview
+nsensureargpointer
+adoprintpreview
+adoprintpreview
+misdoingprintpreview
+nsok
+nsimethodimp
+nsmsgprintengine
+setdoprintpreview
+prbool
+adoprintpreview
+misdoingprintpreview
+adoprintpreview
+nsok
+nsimethodimp
+nsmsgprintengine
+getwebbrowserprint
+nsiwebbrowserprint
+awebbrowserprint
+nsensureargpointer
+awebbrowserprint
+awebbrowserprint
+nsnull
+nsensuretrue
+mdocshell
+nserrorfailure
+mdocshell
+getcontentviewer
+getteraddrefs
+mcontentviewer
+nsensuretrue
+mcontentviewer
+nserrorfailure
+mwebbrowserprint
+doqueryinterface
+mcontentviewer
+nsensuretrue
+mwebbrowserprint
+nserrorfailure
+nsaddref
+awebbrowserprint
+mwebbrowserprint
+nsok
+nsimethodimp
+nsmsgprintengine
+setmsgtype
+print
+amsgtype
+mmsginx
+nsimsgprintengine
+mnabstart
+mmsginx
+nsimsgprintengine
+mnabend
+mmsginx
+amsgtype
+nsok
+nserrorfailure
+nsimethodimp
+nsmsgprintengine
+observe
+nsisupports
+asubject
+atopic
+prunichar
+adata
+firethatloadoperation
+mloaduri nsresult
\ No newline at end of file
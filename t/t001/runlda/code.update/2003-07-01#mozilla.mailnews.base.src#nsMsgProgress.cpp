@@ -0,0 +1,449 @@
+nsmsgprogress
+nsibasewindow
+nsisupportsarray
+nsxpcom
+nsisupportsprimitives
+nsicomponentmanager
+nsimplthreadsafeaddref
+nsmsgprogress
+nsimplthreadsaferelease
+nsmsgprogress
+nsinterfacemapbegin
+nsmsgprogress
+nsinterfacemapentryambiguous
+nsisupports
+nsimsgstatusfeedback
+nsinterfacemapentry
+nsimsgprogress
+nsinterfacemapentry
+nsimsgstatusfeedback
+nsinterfacemapentry
+nsiwebprogresslistener
+nsinterfacemapendthreadsafe
+nsmsgprogress
+nsmsgprogress
+mcloseprogress
+prfalse
+mprocesscanceled
+prfalse
+mpendingstateflags
+mpendingstatevalue
+nsmsgprogress
+nsmsgprogress
+releaselisteners
+nsimethodimp
+nsmsgprogress
+openprogressdialog
+nsidomwindowinternal
+parent
+dialogurl
+nsisupports
+parameters
+nsresult
+rv
+nserrorfailure
+mdialog
+nserroralreadyinitialized
+dialogurl
+dialogurl
+nserrorinvalidarg
+parent
+nscomptr
+nsisupportsarray
+array
+rv
+nsnewisupportsarray
+getteraddrefs
+array
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupportsinterfacepointer
+ifptr
+docreateinstance
+nssupportsinterfacepointercontractid
+rv
+nsensuresuccess
+rv
+rv
+ifptr
+setdata
+nsstaticcast
+nsimsgprogress
+ifptr
+setdataiid
+nsgetiid
+nsimsgprogress
+array
+appendelement
+ifptr
+array
+appendelement
+parameters
+nscomptr
+nsidomwindow
+newwindow
+rv
+parent
+opendialog
+nsconvertasciitoucs
+dialogurl
+nsliteralstring
+blank
+nsliteralstring
+titlebar
+dependent
+array
+getteraddrefs
+newwindow
+rv
+nsimethodimp
+nsmsgprogress
+closeprogressdialog
+prbool
+forceclose
+mcloseprogress
+prtrue
+onstatechange
+nsnull
+nsnull
+nsiwebprogresslistener
+statestop
+forceclose
+nsimethodimp
+nsmsgprogress
+getprompter
+nsiprompt
+retval
+nsensureargpointer
+retval
+retval
+nsnull
+mcloseprogress
+mdialog
+mdialog
+getprompter
+retval
+nserrorfailure
+nsimethodimp
+nsmsgprogress
+getprocesscanceledbyuser
+prbool
+aprocesscanceledbyuser
+nsensureargpointer
+aprocesscanceledbyuser
+aprocesscanceledbyuser
+mprocesscanceled
+nsok
+nsimethodimp
+nsmsgprogress
+setprocesscanceledbyuser
+prbool
+aprocesscanceledbyuser
+mprocesscanceled
+aprocesscanceledbyuser
+onstatechange
+nsnull
+nsnull
+nsiwebprogresslistener
+statestop
+prfalse
+nsok
+nsimethodimp
+nsmsgprogress
+registerlistener
+nsiwebprogresslistener
+listener
+nsresult
+rv
+nsok
+listener
+nsok
+mlistenerlist
+rv
+nsnewisupportsarray
+getteraddrefs
+mlistenerlist
+nssucceeded
+rv
+mlistenerlist
+mlistenerlist
+appendelement
+listener
+mcloseprogress
+mprocesscanceled
+listener
+onstatechange
+nsnull
+nsnull
+nsiwebprogresslistener
+statestop
+listener
+onstatuschange
+nsnull
+nsnull
+mpendingstatus
+get
+mpendingstateflags
+listener
+onstatechange
+nsnull
+nsnull
+mpendingstateflags
+mpendingstatevalue
+nsok
+nsimethodimp
+nsmsgprogress
+unregisterlistener
+nsiwebprogresslistener
+listener
+mlistenerlist
+listener
+mlistenerlist
+removeelement
+listener
+nsok
+nsimethodimp
+nsmsgprogress
+onstatechange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+pruint
+astateflags
+nsresult
+astatus
+nsresult
+rv
+mpendingstateflags
+astateflags
+mpendingstatevalue
+astatus
+mlistenerlist
+pruint
+count
+print
+rv
+mlistenerlist
+count
+count
+nsassertion
+nssucceeded
+rv
+mlistenerlist
+count
+failed
+nscomptr
+nsisupports
+asupports
+nscomptr
+nsiwebprogresslistener
+aprogresslistener
+count
+mlistenerlist
+getelementat
+getteraddrefs
+asupports
+aprogresslistener
+doqueryinterface
+asupports
+aprogresslistener
+aprogresslistener
+onstatechange
+awebprogress
+arequest
+astateflags
+astatus
+nsok
+nsimethodimp
+nsmsgprogress
+onprogresschange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+print
+acurselfprogress
+print
+amaxselfprogress
+print
+acurtotalprogress
+print
+amaxtotalprogress
+nsresult
+rv
+mlistenerlist
+pruint
+count
+print
+rv
+mlistenerlist
+count
+count
+nsassertion
+nssucceeded
+rv
+mlistenerlist
+count
+failed
+nscomptr
+nsisupports
+asupports
+nscomptr
+nsiwebprogresslistener
+aprogresslistener
+count
+mlistenerlist
+getelementat
+getteraddrefs
+asupports
+aprogresslistener
+doqueryinterface
+asupports
+aprogresslistener
+aprogresslistener
+onprogresschange
+awebprogress
+arequest
+acurselfprogress
+amaxselfprogress
+acurtotalprogress
+amaxtotalprogress
+nsok
+nsimethodimp
+nsmsgprogress
+onlocationchange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+nsiuri
+location
+nsok
+nsimethodimp
+nsmsgprogress
+onstatuschange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+nsresult
+astatus
+prunichar
+amessage
+nsresult
+rv
+amessage
+amessage
+mpendingstatus
+amessage
+mlistenerlist
+pruint
+count
+print
+rv
+mlistenerlist
+count
+count
+nsassertion
+nssucceeded
+rv
+mlistenerlist
+count
+failed
+nscomptr
+nsisupports
+asupports
+nscomptr
+nsiwebprogresslistener
+aprogresslistener
+count
+mlistenerlist
+getelementat
+getteraddrefs
+asupports
+aprogresslistener
+doqueryinterface
+asupports
+aprogresslistener
+aprogresslistener
+onstatuschange
+awebprogress
+arequest
+astatus
+amessage
+nsok
+nsimethodimp
+nsmsgprogress
+onsecuritychange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+pruint
+state
+nsok
+nsresult
+nsmsgprogress
+releaselisteners
+nsresult
+rv
+nsok
+mlistenerlist
+pruint
+count
+print
+rv
+mlistenerlist
+count
+count
+nsassertion
+nssucceeded
+rv
+mlistenerlist
+count
+failed
+nssucceeded
+rv
+count
+mlistenerlist
+removeelementat
+rv
+nsimethodimp
+nsmsgprogress
+showstatusstring
+prunichar
+status
+onstatuschange
+nsnull
+nsnull
+nsok
+status
+nsimethodimp
+nsmsgprogress
+startmeteors
+nserrornotimplemented
+nsimethodimp
+nsmsgprogress
+stopmeteors
+nserrornotimplemented
+nsimethodimp
+nsmsgprogress
+showprogress
+print
+percent
+nserrornotimplemented
+nsimethodimp
+nsmsgprogress
+setdocshell
+nsidocshell
+shell
+nsidomwindowinternal
+window
+nserrornotimplemented
+nsimethodimp
+nsmsgprogress
+closewindow
+nserrornotimplemented
\ No newline at end of file
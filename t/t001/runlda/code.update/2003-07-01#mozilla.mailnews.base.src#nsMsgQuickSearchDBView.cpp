@@ -0,0 +1,325 @@
+msgcore
+nsmsgquicksearchdbview
+nsimsghdr
+nsmsgbasecid
+nsimsgimapmailfolder
+nsimapcore
+nsmsgquicksearchdbview
+nsmsgquicksearchdbview
+nsmsgquicksearchdbview
+nsmsgquicksearchdbview
+nsimplisupportsinherited
+nsmsgquicksearchdbview
+nsmsgdbview
+nsimsgdbview
+nsimsgsearchnotify
+nsimethodimp
+nsmsgquicksearchdbview
+docommand
+nsmsgviewcommandtypevalue
+acommand
+acommand
+nsmsgviewcommandtype
+markallread
+nsresult
+rv
+nsok
+mfolder
+enablenotifications
+nsimsgfolder
+allmessagecountnotifications
+prfalse
+prtrue
+print
+nssucceeded
+rv
+getsize
+nscomptr
+nsimsgdbhdr
+msghdr
+mdb
+getmsghdrforkey
+mkeys
+getteraddrefs
+msghdr
+rv
+mdb
+markhdrread
+msghdr
+prtrue
+nsnull
+mfolder
+enablenotifications
+nsimsgfolder
+allmessagecountnotifications
+prtrue
+prtrue
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+doqueryinterface
+mfolder
+nssucceeded
+rv
+imapfolder
+rv
+imapfolder
+storeimapflags
+kimapmsgseenflag
+prtrue
+mkeys
+getarray
+mkeys
+getsize
+mdb
+setsummaryvalid
+prtrue
+mdb
+commit
+nsmsgdbcommittype
+klargecommit
+rv
+nsmsgdbview
+docommand
+acommand
+nsimethodimp
+nsmsgquicksearchdbview
+getviewtype
+nsmsgviewtypevalue
+aviewtype
+nsensureargpointer
+aviewtype
+aviewtype
+nsmsgviewtype
+eshowquicksearchresults
+nsok
+nsresult
+nsmsgquicksearchdbview
+onnewheader
+nsmsgkey
+newkey
+nsmsgkey
+aparentkey
+prbool
+ensurelisted
+nsresult
+rv
+nscomptr
+nsimsgdbhdr
+msghdr
+rv
+mdb
+getmsghdrforkey
+newkey
+getteraddrefs
+msghdr
+nssucceeded
+rv
+msghdr
+nsnull
+prbool
+match
+prfalse
+nscomptr
+nsimsgsearchsession
+searchsession
+doqueryreferent
+msearchsession
+searchsession
+searchsession
+matchhdr
+msghdr
+mdb
+match
+match
+addhdr
+msghdr
+nsok
+nsimethodimp
+nsmsgquicksearchdbview
+onkeychange
+nsmsgkey
+akeychanged
+pruint
+aoldflags
+pruint
+anewflags
+nsidbchangelistener
+ainstigator
+nsresult
+rv
+nsmsgdbview
+onkeychange
+akeychanged
+aoldflags
+anewflags
+ainstigator
+aoldflags
+anewflags
+aoldflags
+msgflagnew
+nscomptr
+nsimsgdbhdr
+msghdr
+rv
+mdb
+getmsghdrforkey
+akeychanged
+getteraddrefs
+msghdr
+nssucceeded
+rv
+msghdr
+nsnull
+nsxpidlcstring
+junkscorestr
+msghdr
+getstringproperty
+junkscore
+gettercopies
+junkscorestr
+atoi
+junkscorestr
+get
+nsxpidlcstring
+originstr
+msghdr
+getstringproperty
+junkscoreorigin
+gettercopies
+originstr
+originstr
+get
+prbool
+match
+prfalse
+nscomptr
+nsimsgsearchsession
+searchsession
+doqueryreferent
+msearchsession
+searchsession
+searchsession
+matchhdr
+msghdr
+mdb
+match
+match
+nsmsgviewindex
+deletedindex
+mkeys
+findindex
+akeychanged
+deletedindex
+nsmsgviewindexnone
+removebyindex
+deletedindex
+rv
+nsimethodimp
+nsmsgquicksearchdbview
+getsearchsession
+nsimsgsearchsession
+asession
+nsassertion
+prfalse
+getsearchsession
+method
+is
+implemented
+nserrornotimplemented
+nsimethodimp
+nsmsgquicksearchdbview
+setsearchsession
+nsimsgsearchsession
+asession
+msearchsession
+getteraddrefs
+nsgetweakreference
+asession
+nsok
+nsimethodimp
+nsmsgquicksearchdbview
+onsearchhit
+nsimsgdbhdr
+amsghdr
+nsimsgfolder
+folder
+nsensurearg
+amsghdr
+nsensurearg
+folder
+nsmsgkey
+msgkey
+pruint
+msgflags
+amsghdr
+getmessagekey
+msgkey
+amsghdr
+getflags
+msgflags
+mkeys
+add
+msgkey
+mlevels
+add
+mflags
+add
+msgflags
+mtree
+mtree
+rowcountchanged
+getsize
+nsok
+nsimethodimp
+nsmsgquicksearchdbview
+onsearchdone
+nsresult
+status
+msorttype
+nsmsgviewsorttype
+bythread
+msortvalid
+prfalse
+sort
+msorttype
+msortorder
+nsok
+nsimethodimp
+nsmsgquicksearchdbview
+onnewsearch
+print
+oldsize
+getsize
+mkeys
+removeall
+mlevels
+removeall
+mflags
+removeall
+mtree
+mtree
+rowcountchanged
+oldsize
+nsok
+nsimethodimp
+nsmsgquicksearchdbview
+sort
+nsmsgviewsorttypevalue
+sorttype
+nsmsgviewsortordervalue
+sortorder
+nsmsgkeyarray
+preservedselection
+saveandclearselection
+preservedselection
+nsmsgdbview
+sort
+sorttype
+sortorder
+restoreselection
+preservedselection
+mtree
+mtree
+invalidate
+nsok
\ No newline at end of file
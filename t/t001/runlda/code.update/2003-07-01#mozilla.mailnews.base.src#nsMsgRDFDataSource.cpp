@@ -0,0 +1,592 @@
+nsmsgrdfdatasource
+nsrdfcid
+rdf
+plstr
+nsxpidlstring
+nsmsgrdfutils
+nsenumeratorutils
+nsiobserverservice
+nsdefinecid
+krdfservicecid
+nsrdfservicecid
+nsmsgrdfdatasource
+nsmsgrdfdatasource
+mshuttingdown
+prfalse
+minitialized
+prfalse
+mrdfservice
+nsnull
+nsnewisupportsarray
+getteraddrefs
+mobservers
+nsmsgrdfdatasource
+nsmsgrdfdatasource
+nsassertion
+minitialized
+object
+going
+away
+without
+cleanup
+possibly
+dangerous
+minitialized
+cleanup
+nsresult
+nsmsgrdfdatasource
+init
+nsresult
+rv
+nsok
+minitialized
+nserroralreadyinitialized
+nscomptr
+nsiobserverservice
+obs
+dogetservice
+observer
+service
+rv
+nsfailed
+rv
+rv
+rv
+obs
+addobserver
+nsstaticcast
+nsiobserver
+nsxpcomshutdownobserverid
+prtrue
+nsfailed
+rv
+rv
+getrdfservice
+minitialized
+prtrue
+rv
+nsmsgrdfdatasource
+cleanup
+nsresult
+rv
+mrdfservice
+nsnull
+nscomptr
+nsiobserverservice
+obs
+dogetservice
+observer
+service
+rv
+nssucceeded
+rv
+rv
+obs
+removeobserver
+nsstaticcast
+nsiobserver
+nsxpcomshutdownobserverid
+mwindow
+nsnull
+minitialized
+prfalse
+nsimpladdref
+nsmsgrdfdatasource
+nsimplrelease
+nsmsgrdfdatasource
+nsinterfacemapbegin
+nsmsgrdfdatasource
+nsinterfacemapentry
+nsirdfdatasource
+nsinterfacemapentry
+nsiobserver
+nsinterfacemapentry
+nsimsgrdfdatasource
+nsinterfacemapentry
+nsisupportsweakreference
+nsinterfacemapentryambiguous
+nsisupports
+nsirdfdatasource
+nsinterfacemapend
+nsimethodimp
+nsmsgrdfdatasource
+geturi
+auri
+nsnotreached
+should
+be
+implemented
+by
+subclass
+nserrorunexpected
+nsimethodimp
+nsmsgrdfdatasource
+getsource
+nsirdfresource
+aproperty
+nsirdfnode
+atarget
+prbool
+atruthvalue
+nsirdfresource
+retval
+nsrdfnovalue
+nsimethodimp
+nsmsgrdfdatasource
+getsources
+nsirdfresource
+aproperty
+nsirdfnode
+atarget
+prbool
+atruthvalue
+nsisimpleenumerator
+retval
+nsrdfnovalue
+nsimethodimp
+nsmsgrdfdatasource
+gettarget
+nsirdfresource
+asource
+nsirdfresource
+aproperty
+prbool
+atruthvalue
+nsirdfnode
+retval
+nsrdfnovalue
+nsimethodimp
+nsmsgrdfdatasource
+gettargets
+nsirdfresource
+asource
+nsirdfresource
+aproperty
+prbool
+atruthvalue
+nsisimpleenumerator
+retval
+nsrdfnovalue
+nsimethodimp
+nsmsgrdfdatasource
+assert
+nsirdfresource
+asource
+nsirdfresource
+aproperty
+nsirdfnode
+atarget
+prbool
+atruthvalue
+nsrdfnovalue
+nsimethodimp
+nsmsgrdfdatasource
+unassert
+nsirdfresource
+asource
+nsirdfresource
+aproperty
+nsirdfnode
+atarget
+nsrdfnovalue
+nsimethodimp
+nsmsgrdfdatasource
+change
+nsirdfresource
+asource
+nsirdfresource
+aproperty
+nsirdfnode
+aoldtarget
+nsirdfnode
+anewtarget
+nsrdfnovalue
+nsimethodimp
+nsmsgrdfdatasource
+move
+nsirdfresource
+aoldsource
+nsirdfresource
+anewsource
+nsirdfresource
+aproperty
+nsirdfnode
+atarget
+nsrdfnovalue
+nsimethodimp
+nsmsgrdfdatasource
+hasassertion
+nsirdfresource
+asource
+nsirdfresource
+aproperty
+nsirdfnode
+atarget
+prbool
+atruthvalue
+prbool
+retval
+retval
+prfalse
+nsok
+nsimethodimp
+nsmsgrdfdatasource
+addobserver
+nsirdfobserver
+aobserver
+minitialized
+init
+nsassertion
+mobservers
+indexof
+aobserver
+better
+already
+be
+observing
+mobservers
+appendelement
+aobserver
+nsok
+nsimethodimp
+nsmsgrdfdatasource
+removeobserver
+nsirdfobserver
+aobserver
+mobservers
+nsok
+mobservers
+removeelement
+aobserver
+pruint
+count
+mobservers
+count
+count
+count
+cleanup
+nsok
+nsimethodimp
+nsmsgrdfdatasource
+hasarcin
+nsirdfnode
+anode
+nsirdfresource
+aarc
+prbool
+result
+result
+prfalse
+nsok
+nsimethodimp
+nsmsgrdfdatasource
+hasarcout
+nsirdfresource
+asource
+nsirdfresource
+aarc
+prbool
+result
+result
+prfalse
+nsok
+nsimethodimp
+nsmsgrdfdatasource
+arclabelsin
+nsirdfnode
+anode
+nsisimpleenumerator
+retval
+nscomptr
+nsisupportsarray
+arcs
+nsresult
+rv
+nsnewisupportsarray
+getteraddrefs
+arcs
+nsfailed
+rv
+rv
+nsnewarrayenumerator
+retval
+arcs
+nsimethodimp
+nsmsgrdfdatasource
+arclabelsout
+nsirdfresource
+asource
+nsisimpleenumerator
+retval
+nsrdfnovalue
+nsimethodimp
+nsmsgrdfdatasource
+getallresources
+nsisimpleenumerator
+retval
+nsrdfnovalue
+nsimethodimp
+nsmsgrdfdatasource
+getallcmds
+nsirdfresource
+asource
+nsisimpleenumerator
+retval
+nsrdfnovalue
+nsimethodimp
+nsmsgrdfdatasource
+iscommandenabled
+nsisupportsarray
+asources
+nsirdfresource
+acommand
+nsisupportsarray
+aarguments
+prbool
+retval
+nsrdfnovalue
+nsimethodimp
+nsmsgrdfdatasource
+docommand
+nsisupportsarray
+asources
+nsirdfresource
+acommand
+nsisupportsarray
+aarguments
+nsrdfnovalue
+nsimethodimp
+nsmsgrdfdatasource
+beginupdatebatch
+nsok
+nsimethodimp
+nsmsgrdfdatasource
+endupdatebatch
+nsok
+nsimethodimp
+nsmsgrdfdatasource
+observe
+nsisupports
+asubject
+atopic
+prunichar
+somedata
+strcmp
+atopic
+nsxpcomshutdownobserverid
+mshuttingdown
+prtrue
+cleanup
+nsok
+nsimethodimp
+nsmsgrdfdatasource
+getwindow
+nsimsgwindow
+awindow
+awindow
+nserrornullpointer
+awindow
+mwindow
+nsifaddref
+awindow
+nsok
+nsimethodimp
+nsmsgrdfdatasource
+setwindow
+nsimsgwindow
+awindow
+mwindow
+awindow
+nsok
+nsirdfservice
+nsmsgrdfdatasource
+getrdfservice
+mrdfservice
+mshuttingdown
+nsresult
+rv
+mrdfservice
+dogetservice
+krdfservicecid
+rv
+nsfailed
+rv
+nsnull
+mrdfservice
+nsresult
+nsmsgrdfdatasource
+notifypropertychanged
+nsirdfresource
+resource
+nsirdfresource
+propertyresource
+nsirdfnode
+newnode
+notifyobservers
+resource
+propertyresource
+newnode
+prfalse
+prtrue
+nsok
+nsresult
+nsmsgrdfdatasource
+notifyobservers
+nsirdfresource
+subject
+nsirdfresource
+property
+nsirdfnode
+object
+prbool
+assert
+prbool
+change
+nsassertion
+change
+assert
+can
+change
+assert
+at
+the
+same
+time
+mobservers
+nsmsgrdfnotification
+note
+subject
+property
+object
+change
+mobservers
+enumerateforwards
+changeenumfunc
+note
+assert
+mobservers
+enumerateforwards
+assertenumfunc
+note
+mobservers
+enumerateforwards
+unassertenumfunc
+note
+nsok
+prbool
+nsmsgrdfdatasource
+assertenumfunc
+nsisupports
+aelement
+adata
+nsmsgrdfnotification
+note
+nsmsgrdfnotification
+adata
+nsirdfobserver
+observer
+nsirdfobserver
+aelement
+observer
+onassert
+note
+datasource
+note
+subject
+note
+property
+note
+object
+prtrue
+prbool
+nsmsgrdfdatasource
+unassertenumfunc
+nsisupports
+aelement
+adata
+nsmsgrdfnotification
+note
+nsmsgrdfnotification
+adata
+nsirdfobserver
+observer
+nsirdfobserver
+aelement
+observer
+onunassert
+note
+datasource
+note
+subject
+note
+property
+note
+object
+prtrue
+prbool
+nsmsgrdfdatasource
+changeenumfunc
+nsisupports
+aelement
+adata
+nsmsgrdfnotification
+note
+nsmsgrdfnotification
+adata
+nsirdfobserver
+observer
+nsirdfobserver
+aelement
+observer
+onchange
+note
+datasource
+note
+subject
+note
+property
+nsnull
+note
+object
+prtrue
+nsresult
+nsmsgrdfdatasource
+gettransactionmanager
+nsisupportsarray
+asources
+nsitransactionmanager
+atransactionmanager
+atransactionmanager
+nserrornullpointer
+atransactionmanager
+nsnull
+nsresult
+rv
+nsok
+nscomptr
+nsitransactionmanager
+transactionmanager
+pruint
+cnt
+rv
+asources
+count
+cnt
+nsfailed
+rv
+rv
+cnt
+transactionmanager
+doqueryelementat
+asources
+rv
+nssucceeded
+rv
+transactionmanager
+asources
+removeelementat
+atransactionmanager
+transactionmanager
+nsifaddref
+atransactionmanager
+nsok
\ No newline at end of file
@@ -0,0 +1,368 @@
+msgcore
+nsxpidlstring
+nsiwebprogress
+nsidomwindowinternal
+nspidomwindow
+nsmsgstatusfeedback
+nsiscriptglobalobject
+nsidocumentviewer
+nsidocument
+nsidomelement
+nsidocshell
+nsidocshelltreeitem
+nsichannel
+prinrval
+nsitimelineservice
+define
+msgfeedbacktimerinterval
+nsmsgstatusfeedback
+nsmsgstatusfeedback
+mlastpercent
+llil
+mlastprogresstime
+nsresult
+rv
+nscomptr
+nsistringbundleservice
+bundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nssucceeded
+rv
+bundleservice
+createbundle
+messenger
+locale
+messenger
+properties
+getteraddrefs
+mbundle
+nsmsgstatusfeedback
+nsmsgstatusfeedback
+mbundle
+nsnull
+nsimplthreadsafeaddref
+nsmsgstatusfeedback
+nsimplthreadsaferelease
+nsmsgstatusfeedback
+nsinterfacemapbegin
+nsmsgstatusfeedback
+nsinterfacemapentryambiguous
+nsisupports
+nsimsgstatusfeedback
+nsinterfacemapentry
+nsimsgstatusfeedback
+nsinterfacemapentry
+nsiprogresseventsink
+nsinterfacemapentry
+nsiwebprogresslistener
+nsinterfacemapentry
+nsisupportsweakreference
+nsinterfacemapend
+nsimethodimp
+nsmsgstatusfeedback
+onprogresschange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+print
+acurselfprogress
+print
+amaxselfprogress
+print
+acurtotalprogress
+print
+amaxtotalprogress
+print
+percentage
+amaxtotalprogress
+percentage
+acurtotalprogress
+amaxtotalprogress
+percentage
+showprogress
+percentage
+nsok
+nsimethodimp
+nsmsgstatusfeedback
+onstatechange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+pruint
+aprogressstateflags
+nsresult
+astatus
+nsresult
+rv
+nsensuretrue
+mbundle
+nserrornullpointer
+aprogressstateflags
+stateisnetwork
+aprogressstateflags
+statestart
+nstimelinestarttimer
+start
+msg
+loading
+nstimelineenter
+start
+msg
+loading
+in
+progress
+mlastpercent
+startmeteors
+nsxpidlstring
+loadingdocument
+rv
+mbundle
+getstringfromname
+nsliteralstring
+documentloading
+get
+gettercopies
+loadingdocument
+nssucceeded
+rv
+showstatusstring
+loadingdocument
+aprogressstateflags
+statestop
+nstimelinestoptimer
+start
+msg
+loading
+nstimelineleave
+start
+msg
+loading
+is
+finished
+nstimelinemarktimer
+start
+msg
+loading
+nstimelineresettimer
+start
+msg
+loading
+stopmeteors
+nsxpidlstring
+documentdone
+rv
+mbundle
+getstringfromname
+nsliteralstring
+documentdone
+get
+gettercopies
+documentdone
+nssucceeded
+rv
+showstatusstring
+documentdone
+nsok
+nsimethodimp
+nsmsgstatusfeedback
+onlocationchange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+nsiuri
+alocation
+nsok
+nsimethodimp
+nsmsgstatusfeedback
+onstatuschange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+nsresult
+astatus
+prunichar
+amessage
+nsok
+nsimethodimp
+nsmsgstatusfeedback
+onsecuritychange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+pruint
+state
+nsok
+nsimethodimp
+nsmsgstatusfeedback
+showstatusstring
+prunichar
+status
+mstatusfeedback
+mstatusfeedback
+showstatusstring
+status
+nsok
+nsimethodimp
+nsmsgstatusfeedback
+showprogress
+print
+percentage
+percentage
+mlastpercent
+mlastpercent
+percentage
+nsok
+mlastpercent
+percentage
+print
+nowms
+llil
+nowms
+percentage
+int
+minintervalbetweenprogress
+llil
+minintervalbetweenprogress
+int
+diffsincelastprogress
+llil
+nowms
+printervaltomilliseconds
+printervalnow
+llsub
+diffsincelastprogress
+nowms
+mlastprogresstime
+llsub
+diffsincelastprogress
+diffsincelastprogress
+minintervalbetweenprogress
+llgezero
+diffsincelastprogress
+nsok
+mlastprogresstime
+nowms
+mstatusfeedback
+mstatusfeedback
+showprogress
+percentage
+nsok
+nsimethodimp
+nsmsgstatusfeedback
+startmeteors
+mstatusfeedback
+mstatusfeedback
+startmeteors
+nsok
+nsimethodimp
+nsmsgstatusfeedback
+stopmeteors
+mstatusfeedback
+mstatusfeedback
+stopmeteors
+nsok
+nsimethodimp
+nsmsgstatusfeedback
+closewindow
+mwindow
+nsnull
+mstatusfeedback
+nsnull
+nsok
+nsimethodimp
+nsmsgstatusfeedback
+setdocshell
+nsidocshell
+shell
+nsidomwindowinternal
+awindow
+awindow
+nscomptr
+nsisupports
+xpconnectobj
+nscomptr
+nspidomwindow
+pidomwindow
+doqueryinterface
+awindow
+pidomwindow
+pidomwindow
+getobjectproperty
+nsliteralstring
+msgstatusfeedback
+get
+getteraddrefs
+xpconnectobj
+mstatusfeedback
+doqueryinterface
+xpconnectobj
+mwindow
+awindow
+nsok
+nsimethodimp
+nsmsgstatusfeedback
+onprogress
+nsirequest
+request
+nsisupports
+ctxt
+pruint
+aprogress
+pruint
+aprogressmax
+onprogresschange
+nsnull
+request
+aprogress
+aprogressmax
+aprogress
+aprogressmax
+nsimethodimp
+nsmsgstatusfeedback
+onstatus
+nsirequest
+request
+nsisupports
+ctxt
+nsresult
+astatus
+prunichar
+astatusarg
+nsresult
+rv
+nscomptr
+nsistringbundleservice
+sbs
+dogetservice
+nsstringbundlecontractid
+rv
+nsfailed
+rv
+rv
+nsxpidlstring
+str
+rv
+sbs
+formatstatusmessage
+astatus
+astatusarg
+gettercopies
+str
+nsfailed
+rv
+rv
+nsautostring
+msg
+nsstaticcast
+prunichar
+str
+showstatusstring
+msg
+get nsresult
\ No newline at end of file
@@ -0,0 +1,821 @@
+nsmsgwindow
+nsreadableutils
+nsiuriloader
+nscuriloader
+nsidocshell
+nsidocshelltreeitem
+nsidocshelltreenode
+nsiscriptglobalobject
+nsidomelement
+nsidomwindowinternal
+nstransactionmanagercid
+nsicomponentmanager
+nsidocumentloader
+nsiloadgroup
+nsimsgmailnewsurl
+nsiinterfacerequestor
+nsiinterfacerequestorutils
+nsiwebprogress
+nsiwebprogresslistener
+nspidomwindow
+nsiprompt
+nsiauthprompt
+nsicharsetalias
+nsichannel
+nsirequestobserver
+netcore
+plbase
+nsmsgin
+nsiwebnavigation
+nsisupportsobsolete
+nsiwebshell
+nsdefinecid
+ktransactionmanagercid
+nstransactionmanagercid
+nsdefinecid
+kcomponentmanagercid
+nscomponentmanagercid
+nsimplthreadsafeisupports
+nsmsgwindow
+nsimsgwindow
+nsiuricontentlistener
+nsisupportsweakreference
+nsmsgwindow
+nsmsgwindow
+mcharsetoverride
+prfalse
+mstopped
+prfalse
+nsmsgwindow
+nsmsgwindow
+closewindow
+nsresult
+nsmsgwindow
+init
+nsresult
+rv
+nsok
+nscomptr
+nsiuriloader
+dispatcher
+dogetservice
+nsuriloadercontractid
+rv
+nssucceeded
+rv
+rv
+dispatcher
+registercontentlistener
+nscomptr
+nsicomponentmanager
+compmgr
+dogetservice
+kcomponentmanagercid
+rv
+nssucceeded
+rv
+rv
+compmgr
+createinstance
+ktransactionmanagercid
+nsnull
+nsgetiid
+nsitransactionmanager
+getteraddrefs
+mtransactionmanager
+nssucceeded
+rv
+mtransactionmanager
+setmaxtransactioncount
+rv
+nsmsgwindow
+getmessagewindowdocshell
+nsidocshell
+adocshell
+nscomptr
+nsidocshell
+docshell
+doqueryreferent
+mmessagewindowdocshellweak
+docshell
+nscomptr
+nsidocshell
+rootshell
+doqueryreferent
+mrootdocshellweak
+rootshell
+nscomptr
+nsidocshelltreenode
+rootasnode
+doqueryinterface
+rootshell
+nscomptr
+nsidocshelltreeitem
+msgdocshellitem
+rootasnode
+rootasnode
+findchildwithname
+nsliteralstring
+messagepane
+get
+prtrue
+prfalse
+nsnull
+getteraddrefs
+msgdocshellitem
+docshell
+doqueryinterface
+msgdocshellitem
+mmessagewindowdocshellweak
+getteraddrefs
+nsgetweakreference
+docshell
+adocshell
+docshell
+nsifaddref
+adocshell
+nsimethodimp
+nsmsgwindow
+selectfolder
+folderuri
+mmsgwindowcommands
+selectfolder
+folderuri
+nsimethodimp
+nsmsgwindow
+selectmessage
+messageuri
+mmsgwindowcommands
+selectmessage
+messageuri
+nsimethodimp
+nsmsgwindow
+closewindow
+nsresult
+rv
+nsok
+nscomptr
+nsiuriloader
+dispatcher
+dogetservice
+nsuriloadercontractid
+rv
+nssucceeded
+rv
+rv
+dispatcher
+unregistercontentlistener
+mstatusfeedback
+mstatusfeedback
+closewindow
+mmsgpanecontroller
+nsnull
+stopurls
+nscomptr
+nsidocshell
+rootshell
+doqueryreferent
+mrootdocshellweak
+rootshell
+rootshell
+setparenturicontentlistener
+nsnull
+mrootdocshellweak
+nsnull
+mmessagewindowdocshellweak
+nsnull
+mtransactionmanager
+nsnull
+nsok
+nsimethodimp
+nsmsgwindow
+getstatusfeedback
+nsimsgstatusfeedback
+astatusfeedback
+astatusfeedback
+nserrornullpointer
+astatusfeedback
+mstatusfeedback
+nsifaddref
+astatusfeedback
+nsok
+nsimethodimp
+nsmsgwindow
+setstatusfeedback
+nsimsgstatusfeedback
+astatusfeedback
+nscomptr
+nsidocshell
+messagewindowdocshell
+getmessagewindowdocshell
+getteraddrefs
+messagewindowdocshell
+nscomptr
+nsiwebprogress
+webprogress
+dogetinterface
+messagewindowdocshell
+mstatusfeedback
+astatusfeedback
+webprogress
+mstatusfeedback
+messagewindowdocshell
+nscomptr
+nsiwebprogresslistener
+webprogresslistener
+doqueryinterface
+mstatusfeedback
+webprogress
+addprogresslistener
+webprogresslistener
+nsiwebprogress
+notifyall
+nsok
+nsimethodimp
+nsmsgwindow
+getmessagepanecontroller
+nsimsgmessagepanecontroller
+amsgpanecontroller
+nsensurearg
+amsgpanecontroller
+amsgpanecontroller
+mmsgpanecontroller
+nsifaddref
+amsgpanecontroller
+nsok
+nsimethodimp
+nsmsgwindow
+setmessagepanecontroller
+nsimsgmessagepanecontroller
+amsgpanecontroller
+mmsgpanecontroller
+amsgpanecontroller
+nsok
+nsimethodimp
+nsmsgwindow
+getmsgheadersink
+nsimsgheadersink
+amsghdrsink
+amsghdrsink
+nserrornullpointer
+amsghdrsink
+mmsgheadersink
+nsifaddref
+amsghdrsink
+nsok
+nsimethodimp
+nsmsgwindow
+setmsgheadersink
+nsimsgheadersink
+amsghdrsink
+mmsgheadersink
+amsghdrsink
+nsok
+nsimethodimp
+nsmsgwindow
+gettransactionmanager
+nsitransactionmanager
+atransactionmanager
+nsensureargpointer
+atransactionmanager
+nsifaddref
+atransactionmanager
+mtransactionmanager
+nsok
+nsimethodimp
+nsmsgwindow
+settransactionmanager
+nsitransactionmanager
+atransactionmanager
+mtransactionmanager
+atransactionmanager
+nsok
+nsimethodimp
+nsmsgwindow
+getopenfolder
+nsimsgfolder
+aopenfolder
+nsensureargpointer
+aopenfolder
+nsifaddref
+aopenfolder
+mopenfolder
+nsok
+nsimethodimp
+nsmsgwindow
+setopenfolder
+nsimsgfolder
+aopenfolder
+mopenfolder
+aopenfolder
+nsok
+nsimethodimp
+nsmsgwindow
+getrootdocshell
+nsidocshell
+adocshell
+adocshell
+nserrornullpointer
+nscomptr
+nsidocshell
+rootshell
+doqueryreferent
+mrootdocshellweak
+rootshell
+nsnull
+adocshell
+nsnull
+rootshell
+queryinterface
+nsidocshell
+getiid
+adocshell
+nsok
+nsimethodimp
+nsmsgwindow
+setrootdocshell
+nsidocshell
+adocshell
+mrootdocshellweak
+nsnull
+adocshell
+mrootdocshellweak
+getteraddrefs
+nsgetweakreference
+adocshell
+adocshell
+setparenturicontentlistener
+adocshell
+setapptype
+nsidocshell
+apptypemail
+nsok
+nsimethodimp
+nsmsgwindow
+getmailcharacterset
+amailcharacterset
+amailcharacterset
+nserrornullpointer
+amailcharacterset
+tonewcstring
+mmailcharacterset
+amailcharacterset
+nserroroutofmemory
+nsok
+nsimethodimp
+nsmsgwindow
+setmailcharacterset
+amailcharacterset
+mmailcharacterset
+assign
+amailcharacterset
+nsresult
+rv
+nscomptr
+nsicharsetalias
+calias
+dogetservice
+nscharsetaliascontractid
+rv
+nssucceeded
+rv
+calias
+getpreferred
+nsdependentcstring
+amailcharacterset
+mmailcharacterset
+nsok
+nsimethodimp
+nsmsgwindow
+getcharsetoverride
+prbool
+acharsetoverride
+nsensureargpointer
+acharsetoverride
+acharsetoverride
+mcharsetoverride
+nsok
+nsimethodimp
+nsmsgwindow
+setcharsetoverride
+prbool
+acharsetoverride
+mcharsetoverride
+acharsetoverride
+nsok
+nsimethodimp
+nsmsgwindow
+setdomwindow
+nsidomwindowinternal
+awindow
+awindow
+nserrornullpointer
+nsresult
+rv
+nsok
+nscomptr
+nsiscriptglobalobject
+globalscript
+doqueryinterface
+awindow
+nscomptr
+nsidocshell
+docshell
+globalscript
+globalscript
+getdocshell
+getteraddrefs
+docshell
+nscomptr
+nsidocshelltreeitem
+docshellasitem
+doqueryinterface
+docshell
+docshellasitem
+nscomptr
+nsidocshelltreeitem
+rootasitem
+docshellasitem
+getsametyperoottreeitem
+getteraddrefs
+rootasitem
+nscomptr
+nsidocshell
+rootasshell
+doqueryinterface
+rootasitem
+setrootdocshell
+rootasshell
+nscomptr
+nsidocshell
+messagewindowdocshell
+getmessagewindowdocshell
+getteraddrefs
+messagewindowdocshell
+setstatusfeedback
+mstatusfeedback
+nscomptr
+nsisupports
+xpconnectobj
+nscomptr
+nspidomwindow
+pidomwindow
+doqueryinterface
+awindow
+pidomwindow
+pidomwindow
+getobjectproperty
+nsliteralstring
+msgwindowcommands
+get
+getteraddrefs
+xpconnectobj
+mmsgwindowcommands
+doqueryinterface
+xpconnectobj
+rv
+nsimethodimp
+nsmsgwindow
+stopurls
+mstopped
+prtrue
+nscomptr
+nsidocshell
+docshell
+getrootdocshell
+getteraddrefs
+docshell
+docshell
+nscomptr
+nsiwebnavigation
+webnav
+doqueryinterface
+docshell
+webnav
+stop
+nsiwebnavigation
+stopnetwork
+nscomptr
+nsidocshell
+rootshell
+doqueryreferent
+mrootdocshellweak
+nscomptr
+nsiwebshell
+rootwebshell
+doqueryinterface
+rootshell
+rootwebshell
+nscomptr
+nsidocumentloader
+docloader
+nscomptr
+nsiloadgroup
+loadgroup
+rootwebshell
+getdocumentloader
+getteraddrefs
+docloader
+docloader
+docloader
+getloadgroup
+getteraddrefs
+loadgroup
+loadgroup
+loadgroup
+cancel
+nsbindingaborted
+nsok
+nserrornullpointer
+nsimethodimp
+nsmsgwindow
+onstarturiopen
+nsiuri
+auri
+prbool
+aabortopen
+nsok
+nsimethodimp
+nsmsgwindow
+docontent
+acontenttype
+prbool
+aiscontentpreferred
+nsirequest
+request
+nsistreamlistener
+acontenthandler
+prbool
+aabortprocess
+acontenttype
+nscomptr
+nsidocshell
+messagewindowdocshell
+getmessagewindowdocshell
+getteraddrefs
+messagewindowdocshell
+nscomptr
+nsiuricontentlistener
+ctnlistener
+doqueryinterface
+messagewindowdocshell
+ctnlistener
+nscomptr
+nsichannel
+achannel
+doqueryinterface
+request
+achannel
+nserrorfailure
+nscomptr
+nsiuri
+uri
+achannel
+geturi
+getteraddrefs
+uri
+uri
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+uri
+mailnewsurl
+mailnewsurl
+setmsgwindow
+ctnlistener
+docontent
+acontenttype
+aiscontentpreferred
+request
+acontenthandler
+aabortprocess
+nsok
+nsimethodimp
+nsmsgwindow
+ispreferred
+acontenttype
+adesiredcontenttype
+prbool
+acanhandlecontent
+acanhandlecontent
+prfalse
+nsok
+nsimethodimp
+nsmsgwindow
+canhandlecontent
+acontenttype
+prbool
+aiscontentpreferred
+adesiredcontenttype
+prbool
+acanhandlecontent
+nscomptr
+nsidocshell
+messagewindowdocshell
+getmessagewindowdocshell
+getteraddrefs
+messagewindowdocshell
+nscomptr
+nsiuricontentlistener
+ctnlistener
+dogetinterface
+messagewindowdocshell
+ctnlistener
+ctnlistener
+canhandlecontent
+acontenttype
+aiscontentpreferred
+adesiredcontenttype
+acanhandlecontent
+acanhandlecontent
+prfalse
+nsok
+nsimethodimp
+nsmsgwindow
+getparentcontentlistener
+nsiuricontentlistener
+aparent
+aparent
+nsnull
+nsok
+nsimethodimp
+nsmsgwindow
+setparentcontentlistener
+nsiuricontentlistener
+aparent
+nsok
+nsimethodimp
+nsmsgwindow
+getloadcookie
+nsisupports
+aloadcookie
+aloadcookie
+nsnull
+nsok
+nsimethodimp
+nsmsgwindow
+setloadcookie
+nsisupports
+aloadcookie
+nsok
+nsimethodimp
+nsmsgwindow
+getpromptdialog
+nsiprompt
+aprompt
+nsresult
+rv
+nsok
+nsensureargpointer
+aprompt
+nscomptr
+nsidocshell
+rootshell
+doqueryreferent
+mrootdocshellweak
+rootshell
+nscomptr
+nsiprompt
+dialog
+dialog
+dogetinterface
+rootshell
+rv
+dialog
+aprompt
+dialog
+nsaddref
+aprompt
+rv
+nserrornullpointer
+nsimethodimp
+nsmsgwindow
+getauthpromptdialog
+nsiauthprompt
+aprompt
+nsresult
+rv
+nsok
+nsensureargpointer
+aprompt
+nscomptr
+nsidocshell
+rootshell
+doqueryreferent
+mrootdocshellweak
+rootshell
+nscomptr
+nsiauthprompt
+dialog
+dialog
+dogetinterface
+rootshell
+rv
+dialog
+aprompt
+dialog
+nsaddref
+aprompt
+rv
+nserrornullpointer
+nsimethodimp
+nsmsgwindow
+displayhtmlinmessagepane
+prunichar
+title
+prunichar
+body
+nsresult
+rv
+mmsgpanecontroller
+mmsgpanecontroller
+clearmsgpane
+nsstring
+htmlstr
+htmlstr
+append
+nsliteralstring
+html
+head
+meta
+equiv
+content
+type
+content
+text
+html
+charset
+utf
+head
+body
+get
+htmlstr
+append
+body
+htmlstr
+append
+nsliteralstring
+body
+html
+get
+encodedhtml
+plbaseencode
+nsconvertucstoutf
+htmlstr
+get
+nsnull
+encodedhtml
+nserroroutofmemory
+nscstring
+dataspec
+dataspec
+data
+text
+html
+base
+dataspec
+encodedhtml
+prfreeif
+encodedhtml
+nscomptr
+nsiuri
+uri
+docreateinstance
+network
+simple
+uri
+uri
+nserrorunexpected
+rv
+uri
+setspec
+dataspec
+nsensuresuccess
+rv
+rv
+nscomptr
+nsidocshell
+docshell
+getmessagewindowdocshell
+getteraddrefs
+docshell
+docshell
+nserrorunexpected
+rv
+docshell
+loaduri
+uri
+nsnull
+nsiwebnavigation
+loadflagsnone
+prfalse
+nsensuresuccess
+rv
+rv
+nsok
+nsimplgetset
+nsmsgwindow
+stopped
+prbool
+mstopped
\ No newline at end of file
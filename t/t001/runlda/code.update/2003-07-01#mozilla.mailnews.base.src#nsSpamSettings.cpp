@@ -0,0 +1,926 @@
+nsspamsettings
+nsisupportsobsolete
+nsilocalfile
+plstr
+prmem
+nsimsghdr
+nsescape
+nsnetutil
+nsimsgfolder
+nsmsgutils
+nsmsgfolderflags
+nsimapcore
+nsiimapincomingserver
+nsirdfservice
+nsirdfresource
+nsspamsettings
+nsspamsettings
+mlevel
+mmoveonspam
+prfalse
+mmovetargetmode
+nsispamsettings
+movetargetmodeaccount
+mpurge
+prfalse
+mpurgeinterval
+musewhitelist
+prfalse
+mloggingenabled
+prfalse
+mmanualmark
+prfalse
+mmanualmarkmode
+nsispamsettings
+manualmarkmodemove
+nsspamsettings
+nsspamsettings
+nsimplisupports
+nsspamsettings
+nsispamsettings
+nsiurllistener
+nsimethodimp
+nsspamsettings
+getlevel
+print
+alevel
+nsensureargpointer
+alevel
+alevel
+mlevel
+nsok
+nsimethodimp
+nsspamsettings
+setlevel
+print
+alevel
+nsassertion
+alevel
+alevel
+bad
+level
+mlevel
+alevel
+nsok
+nsimethodimp
+nsspamsettings
+getmovetargetmode
+print
+amovetargetmode
+nsensureargpointer
+amovetargetmode
+amovetargetmode
+mmovetargetmode
+nsok
+nsimethodimp
+nsspamsettings
+setmovetargetmode
+print
+amovetargetmode
+nsassertion
+amovetargetmode
+nsispamsettings
+movetargetmodefolder
+amovetargetmode
+nsispamsettings
+movetargetmodeaccount
+bad
+move
+target
+mode
+mmovetargetmode
+amovetargetmode
+nsok
+nsimethodimp
+nsspamsettings
+getmanualmarkmode
+print
+amanualmarkmode
+nsensureargpointer
+amanualmarkmode
+amanualmarkmode
+mmanualmarkmode
+nsok
+nsimethodimp
+nsspamsettings
+setmanualmarkmode
+print
+amanualmarkmode
+nsassertion
+amanualmarkmode
+nsispamsettings
+manualmarkmodemove
+amanualmarkmode
+nsispamsettings
+manualmarkmodedelete
+bad
+manual
+mark
+mode
+mmanualmarkmode
+amanualmarkmode
+nsok
+nsimplgetset
+nsspamsettings
+loggingenabled
+prbool
+mloggingenabled
+nsimplgetset
+nsspamsettings
+moveonspam
+prbool
+mmoveonspam
+nsimplgetset
+nsspamsettings
+purge
+prbool
+mpurge
+nsimplgetset
+nsspamsettings
+usewhitelist
+prbool
+musewhitelist
+nsimplgetset
+nsspamsettings
+manualmark
+prbool
+mmanualmark
+nsimethodimp
+nsspamsettings
+getwhitelistaburi
+awhitelistaburi
+nsensureargpointer
+awhitelistaburi
+awhitelistaburi
+tonewcstring
+mwhitelistaburi
+nsok
+nsimethodimp
+nsspamsettings
+setwhitelistaburi
+awhitelistaburi
+mwhitelistaburi
+awhitelistaburi
+nsok
+nsimethodimp
+nsspamsettings
+getactiontargetaccount
+aactiontargetaccount
+nsensureargpointer
+aactiontargetaccount
+aactiontargetaccount
+tonewcstring
+mactiontargetaccount
+nsok
+nsimethodimp
+nsspamsettings
+setactiontargetaccount
+aactiontargetaccount
+mactiontargetaccount
+aactiontargetaccount
+nsok
+nsimethodimp
+nsspamsettings
+getactiontargetfolder
+aactiontargetfolder
+nsensureargpointer
+aactiontargetfolder
+aactiontargetfolder
+tonewcstring
+mactiontargetfolder
+nsok
+nsimethodimp
+nsspamsettings
+setactiontargetfolder
+aactiontargetfolder
+mactiontargetfolder
+aactiontargetfolder
+nsok
+nsimethodimp
+nsspamsettings
+getpurgeinterval
+print
+apurgeinterval
+nsensureargpointer
+apurgeinterval
+apurgeinterval
+mpurgeinterval
+nsok
+nsimethodimp
+nsspamsettings
+setpurgeinterval
+print
+apurgeinterval
+nsassertion
+apurgeinterval
+bad
+purge
+interval
+mpurgeinterval
+apurgeinterval
+nsok
+nsimethodimp
+nsspamsettings
+setlogstream
+nsioutputstream
+alogstream
+mlogstream
+nsresult
+rv
+mlogstream
+close
+nsensuresuccess
+rv
+rv
+mlogstream
+alogstream
+nsok
+nsimethodimp
+nsspamsettings
+getlogstream
+nsioutputstream
+alogstream
+nsensureargpointer
+alogstream
+nsresult
+rv
+mlogstream
+nscomptr
+nsifilespec
+file
+rv
+getlogfilespec
+getteraddrefs
+file
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+nativepath
+rv
+file
+getnativepath
+gettercopies
+nativepath
+nsensuresuccess
+rv
+rv
+nscomptr
+nsilocalfile
+logfile
+docreateinstance
+nslocalfilecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+logfile
+initwithnativepath
+nsdependentcstring
+nativepath
+nsensuresuccess
+rv
+rv
+rv
+nsnewlocalfileoutputstream
+getteraddrefs
+mlogstream
+logfile
+prcreatefile
+prwronly
+prappend
+nsensuresuccess
+rv
+rv
+mlogstream
+nserrorfailure
+nsaddref
+alogstream
+mlogstream
+nsok
+nsimethodimp
+nsspamsettings
+getserver
+nsimsgincomingserver
+aserver
+nsensureargpointer
+aserver
+nsifaddref
+aserver
+mserver
+nsok
+nsimethodimp
+nsspamsettings
+setserver
+nsimsgincomingserver
+aserver
+mserver
+aserver
+nsok
+nsresult
+nsspamsettings
+getlogfilespec
+nsifilespec
+afilespec
+nsensureargpointer
+afilespec
+nscomptr
+nsimsgincomingserver
+server
+nsresult
+rv
+getserver
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+nsassertion
+server
+are
+you
+trying
+to
+use
+cloned
+spam
+settings
+server
+nserrorfailure
+rv
+server
+getlocalpath
+afilespec
+nsensuresuccess
+rv
+rv
+rv
+afilespec
+appendrelativeunixpath
+junklog
+html
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsspamsettings
+getlogurl
+alogurl
+nsensureargpointer
+alogurl
+nscomptr
+nsifilespec
+file
+nsresult
+rv
+getlogfilespec
+getteraddrefs
+file
+nsensuresuccess
+rv
+rv
+rv
+file
+geturlstring
+alogurl
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsspamsettings
+truncatelog
+nsresult
+rv
+setlogstream
+nsnull
+nsensuresuccess
+rv
+rv
+nscomptr
+nsifilespec
+file
+rv
+getlogfilespec
+getteraddrefs
+file
+nsensuresuccess
+rv
+rv
+rv
+file
+truncate
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsspamsettings
+clearlog
+prbool
+loggingenabled
+mloggingenabled
+mloggingenabled
+prfalse
+nsresult
+rv
+rv
+truncatelog
+nsassertion
+nssucceeded
+rv
+failed
+to
+truncate
+filter
+log
+mloggingenabled
+loggingenabled
+nsok
+nsimethodimp
+nsspamsettings
+ensurelogfile
+nscomptr
+nsifilespec
+file
+nsresult
+rv
+getlogfilespec
+getteraddrefs
+file
+nsensuresuccess
+rv
+rv
+prbool
+exists
+rv
+file
+exists
+exists
+nssucceeded
+rv
+exists
+rv
+file
+touch
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsspamsettings
+flushlogifnecessary
+prbool
+loggingenabled
+prfalse
+nsresult
+rv
+getloggingenabled
+loggingenabled
+nsensuresuccess
+rv
+rv
+loggingenabled
+nscomptr
+nsioutputstream
+logstream
+rv
+getlogstream
+getteraddrefs
+logstream
+nssucceeded
+rv
+logstream
+rv
+logstream
+flush
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsspamsettings
+clone
+nsispamsettings
+aspamsettings
+nsensureargpointer
+aspamsettings
+nsresult
+rv
+aspamsettings
+getusewhitelist
+musewhitelist
+nsensuresuccess
+rv
+rv
+aspamsettings
+getmoveonspam
+mmoveonspam
+aspamsettings
+getmanualmark
+mmanualmark
+aspamsettings
+getmanualmarkmode
+mmanualmarkmode
+aspamsettings
+getpurge
+mpurge
+rv
+aspamsettings
+getpurgeinterval
+mpurgeinterval
+nsensuresuccess
+rv
+rv
+rv
+aspamsettings
+getlevel
+mlevel
+nsensuresuccess
+rv
+rv
+rv
+aspamsettings
+getmovetargetmode
+mmovetargetmode
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+actiontargetaccount
+rv
+aspamsettings
+getactiontargetaccount
+gettercopies
+actiontargetaccount
+nsensuresuccess
+rv
+rv
+mactiontargetaccount
+actiontargetaccount
+nsxpidlcstring
+actiontargetfolder
+rv
+aspamsettings
+getactiontargetfolder
+gettercopies
+actiontargetfolder
+nsensuresuccess
+rv
+rv
+mactiontargetfolder
+actiontargetfolder
+nsxpidlcstring
+whitelistaburi
+rv
+aspamsettings
+getwhitelistaburi
+gettercopies
+whitelistaburi
+nsensuresuccess
+rv
+rv
+mwhitelistaburi
+whitelistaburi
+prbool
+loggingenabled
+rv
+aspamsettings
+getloggingenabled
+loggingenabled
+nsensuresuccess
+rv
+rv
+mloggingenabled
+loggingenabled
+rv
+nsimethodimp
+nsspamsettings
+getspamfolderuri
+aspamfolderuri
+nsensureargpointer
+aspamfolderuri
+mmovetargetmode
+nsispamsettings
+movetargetmodefolder
+getactiontargetfolder
+aspamfolderuri
+nsxpidlcstring
+folderuri
+nsresult
+rv
+getactiontargetaccount
+gettercopies
+folderuri
+nsensuresuccess
+rv
+rv
+folderuri
+isempty
+nsok
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+rdf
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+folderresource
+rv
+rdf
+getresource
+folderuri
+getteraddrefs
+folderresource
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+folderresource
+folder
+nserrorunexpected
+nscomptr
+nsimsgincomingserver
+server
+rv
+folder
+getserver
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+folderuri
+append
+junk
+nscomptr
+nsiimapincomingserver
+imapserver
+doqueryinterface
+server
+imapserver
+nsxpidlcstring
+folderuriwithnamespace
+imapserver
+geturiwithnamespaceprefixifnecessary
+kpersonalnamespace
+folderuri
+get
+gettercopies
+folderuriwithnamespace
+folderuriwithnamespace
+isempty
+folderuri
+folderuriwithnamespace
+aspamfolderuri
+tonewcstring
+folderuri
+aspamfolderuri
+nserroroutofmemory
+rv
+define
+logentrystarttag
+define
+logentrystarttaglen
+strlen
+logentrystarttag
+define
+logentryendtag
+define
+logentryendtaglen
+strlen
+logentryendtag
+nsimethodimp
+nsspamsettings
+logjunkhit
+nsimsgdbhdr
+amsghdr
+prbool
+amovemessage
+prbool
+loggingenabled
+nsresult
+rv
+getloggingenabled
+loggingenabled
+nsensuresuccess
+rv
+rv
+loggingenabled
+nsok
+nscomptr
+nsioutputstream
+logstream
+rv
+getlogstream
+getteraddrefs
+logstream
+nsensuresuccess
+rv
+rv
+prtime
+date
+datestr
+nsxpidlcstring
+author
+nsxpidlcstring
+subject
+rv
+amsghdr
+getdate
+date
+prexplodedtime
+exploded
+prexplodetime
+date
+prlocaltimeparameters
+exploded
+prformattimeusenglish
+datestr
+exploded
+amsghdr
+getauthor
+gettercopies
+author
+amsghdr
+getsubject
+gettercopies
+subject
+nscstring
+buffer
+buffer
+setcapacity
+buffer
+detected
+junk
+message
+from
+buffer
+author
+buffer
+buffer
+subject
+buffer
+at
+buffer
+datestr
+buffer
+amovemessage
+nsxpidlcstring
+msgid
+amsghdr
+getmessageid
+gettercopies
+msgid
+nsxpidlcstring
+junkfolderuri
+rv
+getspamfolderuri
+gettercopies
+junkfolderuri
+nsensuresuccess
+rv
+rv
+buffer
+move
+message
+id
+buffer
+msgid
+get
+buffer
+to
+buffer
+junkfolderuri
+get
+buffer
+pruint
+writecount
+rv
+logstream
+write
+logentrystarttag
+logentrystarttaglen
+writecount
+nsensuresuccess
+rv
+rv
+nsassertion
+writecount
+logentrystarttaglen
+failed
+to
+write
+out
+start
+log
+tag
+escapedbuffer
+nsescapehtml
+buffer
+get
+escapedbuffer
+nserroroutofmemory
+pruint
+escapedbufferlen
+strlen
+escapedbuffer
+rv
+logstream
+write
+escapedbuffer
+escapedbufferlen
+writecount
+prfreeif
+escapedbuffer
+nsensuresuccess
+rv
+rv
+nsassertion
+writecount
+escapedbufferlen
+failed
+to
+write
+out
+log
+hit
+rv
+logstream
+write
+logentryendtag
+logentryendtaglen
+writecount
+nsensuresuccess
+rv
+rv
+nsassertion
+writecount
+logentryendtaglen
+failed
+to
+write
+out
+end
+log
+tag
+nsok
+nsimethodimp
+nsspamsettings
+onstartrunningurl
+nsiuri
+aurl
+nsok
+nsimethodimp
+nsspamsettings
+onstoprunningurl
+nsiuri
+aurl
+nsresult
+exitcode
+nsxpidlcstring
+junkfolderuri
+nsresult
+rv
+getspamfolderuri
+gettercopies
+junkfolderuri
+nsensuresuccess
+rv
+rv
+junkfolderuri
+isempty
+nserrorunexpected
+nscomptr
+nsimsgfolder
+junkfolder
+rv
+getexistingfolder
+junkfolderuri
+get
+getteraddrefs
+junkfolder
+nsensuresuccess
+rv
+rv
+junkfolder
+nserrorunexpected
+rv
+junkfolder
+setflag
+msgfolderflagjunk
+nsensuresuccess
+rv
+rv
+rv
\ No newline at end of file
@@ -0,0 +1,1318 @@
+nssubscribedatasource
+nsirdfservice
+nsrdfcid
+nsicomponentmanager
+nsxpidlstring
+rdf
+nsiservicemanager
+nsenumeratorutils
+nsstring
+nscomptr
+nsimsgfolder
+nsimsgincomingserver
+nsdefinecid
+krdfservicecid
+nsrdfservicecid
+nssubscribenotification
+nsirdfdatasource
+datasource
+nsirdfresource
+subject
+nsirdfresource
+property
+nsirdfnode
+object
+nssubscribenotification
+nssubscribedatasource
+nssubscribedatasource
+nssubscribedatasource
+nssubscribedatasource
+nsimplthreadsafeaddref
+nssubscribedatasource
+nsimplthreadsaferelease
+nssubscribedatasource
+nsimplqueryinterface
+nssubscribedatasource
+nsirdfdatasource
+nsisubscribedatasource
+nsresult
+nssubscribedatasource
+init
+nsresult
+rv
+mrdfservice
+dogetservice
+krdfservicecid
+rv
+nsassertion
+nssucceeded
+rv
+mrdfservice
+failed
+to
+get
+rdf
+service
+nsensuresuccess
+rv
+rv
+mrdfservice
+nserrorfailure
+rv
+mrdfservice
+getresource
+nsliteralcstring
+ncnamespaceuri
+child
+getteraddrefs
+kncchild
+nsensuresuccess
+rv
+rv
+rv
+mrdfservice
+getresource
+nsliteralcstring
+ncnamespaceuri
+name
+getteraddrefs
+kncname
+nsensuresuccess
+rv
+rv
+rv
+mrdfservice
+getresource
+nsliteralcstring
+ncnamespaceuri
+leafname
+getteraddrefs
+kncleafname
+nsensuresuccess
+rv
+rv
+rv
+mrdfservice
+getresource
+nsliteralcstring
+ncnamespaceuri
+subscribed
+getteraddrefs
+kncsubscribed
+nsensuresuccess
+rv
+rv
+rv
+mrdfservice
+getresource
+nsliteralcstring
+ncnamespaceuri
+servertype
+getteraddrefs
+kncservertype
+nsensuresuccess
+rv
+rv
+rv
+mrdfservice
+getliteral
+nsliteralstring
+get
+getteraddrefs
+ktrueliteral
+nsensuresuccess
+rv
+rv
+rv
+mrdfservice
+getliteral
+nsliteralstring
+get
+getteraddrefs
+kfalseliteral
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nssubscribedatasource
+geturi
+auri
+auri
+nscrt
+strdup
+rdf
+subscribe
+nsnull
+nserroroutofmemory
+nsok
+nsimethodimp
+nssubscribedatasource
+getsource
+nsirdfresource
+property
+nsirdfnode
+target
+prbool
+tv
+nsirdfresource
+source
+nsprecondition
+property
+nsnull
+ptr
+property
+nserrornullpointer
+nsprecondition
+target
+nsnull
+ptr
+target
+nserrornullpointer
+nsprecondition
+source
+nsnull
+ptr
+source
+nserrornullpointer
+source
+nsnull
+nsrdfnovalue
+nsimethodimp
+nssubscribedatasource
+gettarget
+nsirdfresource
+source
+nsirdfresource
+property
+prbool
+tv
+nsirdfnode
+target
+nsresult
+rv
+nsrdfnovalue
+nsprecondition
+source
+nsnull
+ptr
+source
+nserrornullpointer
+nsprecondition
+property
+nsnull
+ptr
+property
+nserrornullpointer
+nsprecondition
+target
+nsnull
+ptr
+target
+nserrornullpointer
+target
+nsnull
+tv
+nsrdfnovalue
+nscomptr
+nsisubscribableserver
+server
+nsxpidlcstring
+relativepath
+rv
+getserverandrelativepathfromresource
+source
+getteraddrefs
+server
+gettercopies
+relativepath
+nsfailed
+rv
+server
+nsrdfnovalue
+property
+kncname
+get
+nscomptr
+nsirdfliteral
+name
+rv
+mrdfservice
+getliteral
+nsconvertasciitoucs
+relativepath
+get
+getteraddrefs
+name
+nsensuresuccess
+rv
+rv
+name
+rv
+nsrdfnovalue
+rv
+nsrdfnovalue
+rv
+name
+queryinterface
+nsgetiid
+nsirdfnode
+target
+property
+kncchild
+get
+nsxpidlcstring
+childuri
+rv
+server
+getfirstchilduri
+relativepath
+gettercopies
+childuri
+nsfailed
+rv
+nsrdfnovalue
+childuri
+nsrdfnovalue
+nscomptr
+nsirdfresource
+childresource
+rv
+mrdfservice
+getresource
+childuri
+getteraddrefs
+childresource
+nsensuresuccess
+rv
+rv
+childresource
+queryinterface
+nsgetiid
+nsirdfnode
+target
+property
+kncsubscribed
+get
+prbool
+issubscribed
+rv
+server
+issubscribed
+relativepath
+issubscribed
+nsensuresuccess
+rv
+rv
+issubscribed
+target
+ktrueliteral
+nsifaddref
+target
+nsok
+target
+kfalseliteral
+nsifaddref
+target
+nsok
+property
+kncservertype
+get
+nsxpidlcstring
+servertypestr
+rv
+getservertype
+server
+gettercopies
+servertypestr
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfliteral
+servertype
+rv
+mrdfservice
+getliteral
+nsconvertasciitoucs
+servertypestr
+get
+getteraddrefs
+servertype
+nsensuresuccess
+rv
+rv
+servertype
+rv
+nsrdfnovalue
+rv
+nsrdfnovalue
+rv
+servertype
+queryinterface
+nsgetiid
+nsirdfnode
+target
+property
+kncleafname
+get
+nsxpidlstring
+leafnamestr
+rv
+server
+getleafname
+relativepath
+gettercopies
+leafnamestr
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfliteral
+leafname
+rv
+mrdfservice
+getliteral
+leafnamestr
+getteraddrefs
+leafname
+nsensuresuccess
+rv
+rv
+leafname
+rv
+nsrdfnovalue
+rv
+nsrdfnovalue
+rv
+leafname
+queryinterface
+nsgetiid
+nsirdfnode
+target
+nsrdfnovalue
+nsresult
+nssubscribedatasource
+getchildren
+nsisubscribableserver
+server
+relativepath
+nsisimpleenumerator
+aresult
+nsresult
+rv
+nsok
+nsassertion
+server
+aresult
+no
+server
+result
+server
+aresult
+nserrornullpointer
+nscomptr
+nsisupportsarray
+children
+rv
+nsnewisupportsarray
+getteraddrefs
+children
+nsensuresuccess
+rv
+rv
+children
+nserrorfailure
+rv
+server
+getchildren
+relativepath
+children
+nsfailed
+rv
+rv
+nsisimpleenumerator
+result
+nsarrayenumerator
+children
+result
+nserroroutofmemory
+nsaddref
+result
+aresult
+result
+nsok
+nsimethodimp
+nssubscribedatasource
+gettargets
+nsirdfresource
+source
+nsirdfresource
+property
+prbool
+tv
+nsisimpleenumerator
+targets
+nsresult
+rv
+nsok
+nsprecondition
+source
+nsnull
+ptr
+source
+nserrornullpointer
+nsprecondition
+property
+nsnull
+ptr
+property
+nserrornullpointer
+nsprecondition
+targets
+nsnull
+ptr
+targets
+nserrornullpointer
+targets
+nsnull
+tv
+nsrdfnovalue
+nscomptr
+nsisubscribableserver
+server
+nsxpidlcstring
+relativepath
+rv
+getserverandrelativepathfromresource
+source
+getteraddrefs
+server
+gettercopies
+relativepath
+nsfailed
+rv
+server
+nsnewemptyenumerator
+targets
+property
+kncchild
+get
+rv
+getchildren
+server
+relativepath
+targets
+nsfailed
+rv
+nsnewemptyenumerator
+targets
+rv
+property
+kncleafname
+get
+nsxpidlstring
+leafnamestr
+rv
+server
+getleafname
+relativepath
+gettercopies
+leafnamestr
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfliteral
+leafname
+rv
+mrdfservice
+getliteral
+leafnamestr
+getteraddrefs
+leafname
+nsensuresuccess
+rv
+rv
+nsisimpleenumerator
+result
+nssingletonenumerator
+leafname
+result
+nserroroutofmemory
+nsaddref
+result
+targets
+result
+nsok
+property
+kncsubscribed
+get
+prbool
+issubscribed
+rv
+server
+issubscribed
+relativepath
+issubscribed
+nsensuresuccess
+rv
+rv
+nsisimpleenumerator
+result
+nsnull
+issubscribed
+result
+nssingletonenumerator
+ktrueliteral
+result
+nssingletonenumerator
+kfalseliteral
+result
+nserroroutofmemory
+nsaddref
+result
+targets
+result
+nsok
+property
+kncname
+get
+nscomptr
+nsirdfliteral
+name
+rv
+mrdfservice
+getliteral
+nsconvertasciitoucs
+relativepath
+get
+getteraddrefs
+name
+nsensuresuccess
+rv
+rv
+nsisimpleenumerator
+result
+nssingletonenumerator
+name
+result
+nserroroutofmemory
+nsaddref
+result
+targets
+result
+nsok
+property
+kncservertype
+get
+nsxpidlcstring
+servertypestr
+rv
+getservertype
+server
+gettercopies
+servertypestr
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfliteral
+servertype
+rv
+mrdfservice
+getliteral
+nsconvertasciitoucs
+servertypestr
+get
+getteraddrefs
+servertype
+nsensuresuccess
+rv
+rv
+nsisimpleenumerator
+result
+nssingletonenumerator
+servertype
+result
+nserroroutofmemory
+nsaddref
+result
+targets
+result
+nsok
+nsnewemptyenumerator
+targets
+nsimethodimp
+nssubscribedatasource
+assert
+nsirdfresource
+source
+nsirdfresource
+property
+nsirdfnode
+target
+prbool
+tv
+nsrdfassertionrejected
+nsimethodimp
+nssubscribedatasource
+unassert
+nsirdfresource
+source
+nsirdfresource
+property
+nsirdfnode
+target
+nsrdfassertionrejected
+nsimethodimp
+nssubscribedatasource
+change
+nsirdfresource
+asource
+nsirdfresource
+aproperty
+nsirdfnode
+aoldtarget
+nsirdfnode
+anewtarget
+nsrdfassertionrejected
+nsimethodimp
+nssubscribedatasource
+move
+nsirdfresource
+aoldsource
+nsirdfresource
+anewsource
+nsirdfresource
+aproperty
+nsirdfnode
+atarget
+nsrdfassertionrejected
+nsresult
+nssubscribedatasource
+getservertype
+nsisubscribableserver
+server
+servertype
+nsresult
+rv
+server
+servertype
+nserrornullpointer
+nscomptr
+nsimsgincomingserver
+incomingserver
+doqueryinterface
+server
+rv
+nsensuresuccess
+rv
+rv
+incomingserver
+nserrorfailure
+rv
+incomingserver
+gettype
+servertype
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nssubscribedatasource
+getserverandrelativepathfromresource
+nsirdfresource
+source
+nsisubscribableserver
+server
+relativepath
+nsresult
+rv
+nsok
+sourceuri
+nsnull
+rv
+source
+getvalueconst
+sourceuri
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+source
+rv
+nsfailed
+rv
+rv
+folder
+nserrorfailure
+nscomptr
+nsimsgincomingserver
+incomingserver
+rv
+folder
+getserver
+getteraddrefs
+incomingserver
+nsensuresuccess
+rv
+rv
+incomingserver
+nserrorfailure
+rv
+incomingserver
+queryinterface
+nsgetiid
+nsisubscribableserver
+server
+nsensuresuccess
+rv
+rv
+server
+nserrorfailure
+nsxpidlcstring
+serveruri
+rv
+incomingserver
+getserveruri
+gettercopies
+serveruri
+nsensuresuccess
+rv
+rv
+pruint
+serverurilen
+strlen
+serveruri
+serverurilen
+strlen
+sourceuri
+relativepath
+nsnull
+relativepath
+nscrt
+strdup
+sourceuri
+serverurilen
+nsassertion
+relativepath
+no
+relative
+path
+relativepath
+nserroroutofmemory
+nsok
+nsimethodimp
+nssubscribedatasource
+hasassertion
+nsirdfresource
+source
+nsirdfresource
+property
+nsirdfnode
+target
+prbool
+tv
+prbool
+hasassertion
+nsresult
+rv
+nsok
+nsprecondition
+source
+nsnull
+ptr
+source
+nserrornullpointer
+nsprecondition
+property
+nsnull
+ptr
+property
+nserrornullpointer
+nsprecondition
+target
+nsnull
+ptr
+target
+nserrornullpointer
+nsprecondition
+hasassertion
+nsnull
+ptr
+hasassertion
+nserrornullpointer
+hasassertion
+prfalse
+tv
+nsok
+property
+kncchild
+get
+nscomptr
+nsisubscribableserver
+server
+nsxpidlcstring
+relativepath
+rv
+getserverandrelativepathfromresource
+source
+getteraddrefs
+server
+gettercopies
+relativepath
+nsfailed
+rv
+server
+hasassertion
+prfalse
+nsok
+rv
+server
+haschildren
+relativepath
+hasassertion
+nsensuresuccess
+rv
+rv
+property
+kncname
+get
+hasassertion
+prtrue
+property
+kncleafname
+get
+hasassertion
+prtrue
+property
+kncsubscribed
+get
+hasassertion
+prtrue
+property
+kncservertype
+get
+hasassertion
+prtrue
+nsok
+nsimethodimp
+nssubscribedatasource
+hasarcin
+nsirdfnode
+anode
+nsirdfresource
+aarc
+prbool
+result
+nserrornotimplemented
+nsimethodimp
+nssubscribedatasource
+hasarcout
+nsirdfresource
+source
+nsirdfresource
+aarc
+prbool
+result
+nsresult
+rv
+nsok
+nscomptr
+nsisubscribableserver
+server
+nsxpidlcstring
+relativepath
+aarc
+kncchild
+get
+rv
+getserverandrelativepathfromresource
+source
+getteraddrefs
+server
+gettercopies
+relativepath
+nsfailed
+rv
+server
+result
+prfalse
+nsok
+prbool
+haschildren
+prfalse
+rv
+server
+haschildren
+relativepath
+haschildren
+nsensuresuccess
+rv
+rv
+result
+haschildren
+nsok
+aarc
+kncsubscribed
+get
+aarc
+kncleafname
+get
+aarc
+kncservertype
+get
+aarc
+kncname
+get
+result
+prtrue
+nsok
+result
+prfalse
+nsok
+nsimethodimp
+nssubscribedatasource
+arclabelsin
+nsirdfnode
+node
+nsisimpleenumerator
+labels
+nserrornotimplemented
+nsimethodimp
+nssubscribedatasource
+arclabelsout
+nsirdfresource
+source
+nsisimpleenumerator
+labels
+nsresult
+rv
+nsok
+nsprecondition
+source
+nsnull
+ptr
+source
+nserrornullpointer
+nsprecondition
+labels
+nsnull
+ptr
+labels
+nserrornullpointer
+nscomptr
+nsisubscribableserver
+server
+nsxpidlcstring
+relativepath
+rv
+getserverandrelativepathfromresource
+source
+getteraddrefs
+server
+gettercopies
+relativepath
+nsfailed
+rv
+server
+nsnewemptyenumerator
+labels
+nscomptr
+nsisupportsarray
+array
+rv
+nsnewisupportsarray
+getteraddrefs
+array
+nsensuresuccess
+rv
+rv
+array
+appendelement
+kncsubscribed
+array
+appendelement
+kncname
+array
+appendelement
+kncservertype
+array
+appendelement
+kncleafname
+prbool
+haschildren
+prfalse
+rv
+server
+haschildren
+relativepath
+haschildren
+nsensuresuccess
+rv
+rv
+haschildren
+array
+appendelement
+kncchild
+nsisimpleenumerator
+result
+nsarrayenumerator
+array
+result
+nserroroutofmemory
+nsaddref
+result
+labels
+result
+nsok
+nsimethodimp
+nssubscribedatasource
+getallresources
+nsisimpleenumerator
+acursor
+nsnotyetimplemented
+sorry
+nserrornotimplemented
+nsimethodimp
+nssubscribedatasource
+addobserver
+nsirdfobserver
+nsprecondition
+nsnull
+ptr
+nserrornullpointer
+mobservers
+nsresult
+rv
+rv
+nsnewisupportsarray
+getteraddrefs
+mobservers
+nsfailed
+rv
+rv
+mobservers
+appendelement
+nsok
+nsimethodimp
+nssubscribedatasource
+removeobserver
+nsirdfobserver
+nsprecondition
+nsnull
+ptr
+nserrornullpointer
+mobservers
+nsok
+mobservers
+removeelement
+nsok
+nsimethodimp
+nssubscribedatasource
+gethasobservers
+prbool
+hasobservers
+nsresult
+rv
+nsok
+nsassertion
+hasobservers
+ptr
+hasobservers
+nserrornullpointer
+mobservers
+hasobservers
+prfalse
+nsok
+pruint
+count
+rv
+mobservers
+count
+count
+nsensuresuccess
+rv
+rv
+hasobservers
+count
+nsok
+nsimethodimp
+nssubscribedatasource
+getallcmds
+nsirdfresource
+source
+nsisimpleenumerator
+commands
+nsnewemptyenumerator
+commands
+nsimethodimp
+nssubscribedatasource
+iscommandenabled
+nsisupportsarray
+asources
+nsirdfresource
+acommand
+nsisupportsarray
+aarguments
+prbool
+aresult
+nserrornotimplemented
+nsimethodimp
+nssubscribedatasource
+docommand
+nsisupportsarray
+asources
+nsirdfresource
+acommand
+nsisupportsarray
+aarguments
+nserrornotimplemented
+nsimethodimp
+nssubscribedatasource
+beginupdatebatch
+nsok
+nsimethodimp
+nssubscribedatasource
+endupdatebatch
+nsok
+nsimethodimp
+nssubscribedatasource
+getsources
+nsirdfresource
+aproperty
+nsirdfnode
+atarget
+prbool
+atruthvalue
+nsisimpleenumerator
+retval
+nsassertion
+prfalse
+not
+implemented
+nserrornotimplemented
+nsimethodimp
+nssubscribedatasource
+notifyobservers
+nsirdfresource
+subject
+nsirdfresource
+property
+nsirdfnode
+object
+prbool
+assert
+prbool
+change
+nsassertion
+change
+assert
+can
+change
+assert
+at
+the
+same
+time
+mobservers
+nssubscribenotification
+note
+subject
+property
+object
+change
+mobservers
+enumerateforwards
+changeenumfunc
+note
+assert
+mobservers
+enumerateforwards
+assertenumfunc
+note
+mobservers
+enumerateforwards
+unassertenumfunc
+note
+nsok
+prbool
+nssubscribedatasource
+changeenumfunc
+nsisupports
+aelement
+adata
+nssubscribenotification
+note
+nssubscribenotification
+adata
+nsirdfobserver
+observer
+nsirdfobserver
+aelement
+observer
+onchange
+note
+datasource
+note
+subject
+note
+property
+nsnull
+note
+object
+prtrue
+prbool
+nssubscribedatasource
+assertenumfunc
+nsisupports
+aelement
+adata
+nssubscribenotification
+note
+nssubscribenotification
+adata
+nsirdfobserver
+observer
+nsirdfobserver
+aelement
+observer
+onassert
+note
+datasource
+note
+subject
+note
+property
+note
+object
+prtrue
+prbool
+nssubscribedatasource
+unassertenumfunc
+nsisupports
+aelement
+adata
+nssubscribenotification
+note
+nssubscribenotification
+adata
+nsirdfobserver
+observer
+nsirdfobserver
+aelement
+observer
+onunassert
+note
+datasource
+note
+subject
+note
+property
+note
+object
+prtrue nsresult
\ No newline at end of file
@@ -0,0 +1,141 @@
+msgcore
+nsurllistenermanager
+nsurllistenermanager
+nsurllistenermanager
+mlisteners
+nsnull
+nsnewisupportsarray
+getteraddrefs
+mlisteners
+nsurllistenermanager
+nsurllistenermanager
+releaselisteners
+nsurllistenermanager
+releaselisteners
+mlisteners
+pruint
+count
+nsresult
+rv
+mlisteners
+count
+count
+nsassertion
+nssucceeded
+rv
+mlisteners
+count
+failed
+nsfailed
+rv
+count
+mlisteners
+removeelementat
+nsimplthreadsafeisupports
+nsurllistenermanager
+nsiurllistenermanager
+nsresult
+nsurllistenermanager
+registerlistener
+nsiurllistener
+aurllistener
+mlisteners
+aurllistener
+mlisteners
+appendelement
+aurllistener
+nsok
+nsresult
+nsurllistenermanager
+unregisterlistener
+nsiurllistener
+aurllistener
+mlisteners
+aurllistener
+mlisteners
+removeelement
+aurllistener
+nsok
+nsresult
+nsurllistenermanager
+broadcastchange
+nsiuri
+aurl
+nsurlnotifytype
+notification
+nsresult
+aerrorcode
+nsprecondition
+aurl
+we
+shouldn
+get
+onstartrunningurl
+the
+url
+listener
+manager
+without
+url
+nsresult
+rv
+nsok
+mlisteners
+aurl
+nscomptr
+nsiurllistener
+listener
+nscomptr
+nsisupports
+asupports
+pruint
+index
+mlisteners
+count
+index
+index
+index
+mlisteners
+getelementat
+index
+getteraddrefs
+asupports
+listener
+doqueryinterface
+asupports
+listener
+notification
+nsurlnotifystartrunning
+listener
+onstartrunningurl
+aurl
+notification
+nsurlnotifystoprunning
+listener
+onstoprunningurl
+aurl
+aerrorcode
+rv
+nsresult
+nsurllistenermanager
+onstartrunningurl
+nsimsgmailnewsurl
+aurl
+broadcastchange
+aurl
+nsurlnotifystartrunning
+nsresult
+nsurllistenermanager
+onstoprunningurl
+nsimsgmailnewsurl
+aurl
+nsresult
+aerrorcode
+nsresult
+rv
+broadcastchange
+aurl
+nsurlnotifystoprunning
+aerrorcode
+releaselisteners
+rv nsresult
\ No newline at end of file
@@ -0,0 +1,4391 @@
+msgcore
+prprf
+nsisupportsarray
+nsiservicemanager
+nsxpidlstring
+nsreadableutils
+nsunicharutils
+nscomptr
+nsautolock
+nsmemory
+nsistringbundle
+nsescape
+nsmsgfolder
+nsmsgfolderflags
+nsmsgkeyarray
+nsmsgdatabase
+nsidbfolderinfo
+nsimsgaccountmanager
+nsmsgbasecid
+nsmsgutils
+nsmsgin
+nsiprefbranch
+nsiprefservice
+nsirdfservice
+nsrdfcid
+nsiioservice
+nsiurl
+nsnetcid
+nsidocshell
+nsimsgwindow
+nsiprompt
+nsiinterfacerequestor
+nsiinterfacerequestorutils
+nsilocale
+nsilocaleservice
+nscollationcid
+nsimsgmdngenerator
+define
+prefmailwarnfilterchanged
+mail
+warnfilterchanged
+nsdefinecid
+krdfservicecid
+nsrdfservicecid
+nsdefinecid
+kioservicecid
+nsioservicecid
+nsdefinecid
+kcollationfactorycid
+nscollationfactorycid
+nsrefcnt
+nsmsgfolder
+ginstancecount
+prunichar
+nsmsgfolder
+klocalizedinboxname
+prunichar
+nsmsgfolder
+klocalizedtrashname
+prunichar
+nsmsgfolder
+klocalizedsentname
+prunichar
+nsmsgfolder
+klocalizeddraftsname
+prunichar
+nsmsgfolder
+klocalizedtemplatesname
+prunichar
+nsmsgfolder
+klocalizedunsentname
+prunichar
+nsmsgfolder
+klocalizedjunkname
+nsiatom
+nsmsgfolder
+ktotalmessagesatom
+nsnull
+nsiatom
+nsmsgfolder
+kfoldersizeatom
+nsnull
+nsiatom
+nsmsgfolder
+kbiffstateatom
+nsnull
+nsiatom
+nsmsgfolder
+knewmessagesatom
+nsnull
+nsiatom
+nsmsgfolder
+knumnewbiffmessagesatom
+nsnull
+nsiatom
+nsmsgfolder
+ktotalunreadmessagesatom
+nsnull
+nsiatom
+nsmsgfolder
+kflaggedatom
+nsnull
+nsiatom
+nsmsgfolder
+kstatusatom
+nsnull
+nsiatom
+nsmsgfolder
+knameatom
+nsnull
+nsiatom
+nsmsgfolder
+ksynchronizeatom
+nsnull
+nsiatom
+nsmsgfolder
+kopenatom
+nsnull
+nsicollation
+nsmsgfolder
+kcollationkeygenerator
+nsnull
+ifdef
+msgfasteruriparsing
+nscomptr
+nsiurl
+nsmsgfolder
+mparsingurl
+prbool
+nsmsgfolder
+mparsingurlinuse
+prfalse
+endif
+nsmsgfolder
+nsmsgfolder
+nsrdfresource
+mflags
+mnumunreadmessages
+mnumtotalmessages
+mnotifycountchanges
+prtrue
+mexpungedbytes
+minitializedfromcache
+prfalse
+mnumnewbiffmessages
+mhaveparseduri
+prfalse
+misserverisvalid
+prfalse
+misserver
+prfalse
+mbasemessageuri
+nsnull
+msemaphoreholder
+mnumpendingunreadmessages
+mnumpendingtotalmessages
+mfoldersize
+nsnewisupportsarray
+getteraddrefs
+msubfolders
+miscachable
+prtrue
+mlisteners
+nsvoidarray
+ginstancecount
+kbiffstateatom
+nsnewatom
+biffstate
+knewmessagesatom
+nsnewatom
+newmessages
+knumnewbiffmessagesatom
+nsnewatom
+numnewbiffmessages
+knameatom
+nsnewatom
+name
+ktotalunreadmessagesatom
+nsnewatom
+totalunreadmessages
+ktotalmessagesatom
+nsnewatom
+totalmessages
+kfoldersizeatom
+nsnewatom
+foldersize
+kstatusatom
+nsnewatom
+status
+kflaggedatom
+nsnewatom
+flagged
+ksynchronizeatom
+nsnewatom
+synchronize
+kopenatom
+nsnewatom
+open
+initializestrings
+createcollationkeygenerator
+ifdef
+msgfasteruriparsing
+mparsingurl
+docreateinstance
+nsstandardurlcontractid
+endif
+ginstancecount
+nsmsgfolder
+nsmsgfolder
+nsresult
+rv
+msubfolders
+pruint
+count
+rv
+msubfolders
+count
+count
+nsassertion
+nssucceeded
+rv
+count
+failed
+count
+msubfolders
+removeelementat
+mlisteners
+mbasemessageuri
+nscrt
+free
+mbasemessageuri
+ginstancecount
+ginstancecount
+nsifrelease
+kbiffstateatom
+nsifrelease
+knewmessagesatom
+nsifrelease
+knumnewbiffmessagesatom
+nsifrelease
+knameatom
+nsifrelease
+ktotalunreadmessagesatom
+nsifrelease
+ktotalmessagesatom
+nsifrelease
+kfoldersizeatom
+nsifrelease
+kstatusatom
+nsifrelease
+kflaggedatom
+nsifrelease
+ksynchronizeatom
+nsifrelease
+kopenatom
+nsifrelease
+kcollationkeygenerator
+crtfreeif
+klocalizedinboxname
+crtfreeif
+klocalizedtrashname
+crtfreeif
+klocalizedsentname
+crtfreeif
+klocalizeddraftsname
+crtfreeif
+klocalizedtemplatesname
+crtfreeif
+klocalizedunsentname
+crtfreeif
+klocalizedjunkname
+ifdef
+msgfasteruriparsing
+mparsingurl
+nsnull
+endif
+nsimplisupportsinherited
+nsmsgfolder
+nsrdfresource
+nsimsgfolder
+nsifolder
+nsisupportsweakreference
+nsiserializable
+nsresult
+nsmsgfolder
+initializestrings
+nsresult
+rv
+nscomptr
+nsistringbundleservice
+bundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsistringbundle
+bundle
+rv
+bundleservice
+createbundle
+messenger
+locale
+messenger
+properties
+getteraddrefs
+bundle
+nsensuresuccess
+rv
+rv
+bundle
+getstringfromname
+nsliteralstring
+inboxfoldername
+get
+klocalizedinboxname
+bundle
+getstringfromname
+nsliteralstring
+trashfoldername
+get
+klocalizedtrashname
+bundle
+getstringfromname
+nsliteralstring
+sentfoldername
+get
+klocalizedsentname
+bundle
+getstringfromname
+nsliteralstring
+draftsfoldername
+get
+klocalizeddraftsname
+bundle
+getstringfromname
+nsliteralstring
+templatesfoldername
+get
+klocalizedtemplatesname
+bundle
+getstringfromname
+nsliteralstring
+junkfoldername
+get
+klocalizedjunkname
+bundle
+getstringfromname
+nsliteralstring
+unsentfoldername
+get
+klocalizedunsentname
+nsok
+nsresult
+nsmsgfolder
+createcollationkeygenerator
+nsresult
+rv
+nsok
+nscomptr
+nsilocaleservice
+localesvc
+dogetservice
+nslocaleservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsilocale
+locale
+rv
+localesvc
+getapplicationlocale
+getteraddrefs
+locale
+nsensuresuccess
+rv
+rv
+nscomptr
+nsicollationfactory
+factory
+docreateinstance
+kcollationfactorycid
+rv
+nsensuresuccess
+rv
+rv
+rv
+factory
+createcollation
+locale
+kcollationkeygenerator
+nsok
+nsimethodimp
+nsmsgfolder
+init
+auri
+nsresult
+rv
+rv
+nsrdfresource
+init
+auri
+nsfailed
+rv
+rv
+rv
+createbasemessageuri
+auri
+nsok
+nsresult
+nsmsgfolder
+createbasemessageuri
+auri
+nsok
+nsimethodimp
+nsmsgfolder
+shutdown
+prbool
+shutdownchildren
+mserver
+nsnull
+mpath
+nsnull
+msubfolders
+clear
+nsok
+nsimethodimp
+nsmsgfolder
+read
+nsiobjectinputstream
+astream
+nsnotreached
+nsmsgfolder
+read
+nserrornotimplemented
+nsimethodimp
+nsmsgfolder
+write
+nsiobjectoutputstream
+astream
+nsnotreached
+nsmsgfolder
+write
+nserrornotimplemented
+nsimethodimp
+nsmsgfolder
+count
+pruint
+result
+msubfolders
+count
+result
+nsimethodimp
+nsmsgfolder
+getelementat
+pruint
+nsisupports
+result
+msubfolders
+getelementat
+result
+nsimethodimp
+nsmsgfolder
+queryelementat
+pruint
+nsiid
+iid
+result
+msubfolders
+queryelementat
+iid
+result
+nsimethodimp
+nsmsgfolder
+setelementat
+pruint
+nsisupports
+value
+msubfolders
+setelementat
+value
+nsimethodimp
+nsmsgfolder
+appendelement
+nsisupports
+aelement
+msubfolders
+appendelement
+aelement
+nsimethodimp
+nsmsgfolder
+removeelement
+nsisupports
+aelement
+msubfolders
+removeelement
+aelement
+nsimethodimp
+nsmsgfolder
+enumerate
+nsienumerator
+result
+msubfolders
+enumerate
+result
+nsimethodimp
+nsmsgfolder
+clear
+msubfolders
+clear
+nsimethodimp
+nsmsgfolder
+geturi
+name
+nsrdfresource
+getvalue
+name
+prbool
+nsarrayfilter
+nsisupports
+element
+data
+nsresult
+nsfilterby
+nsisupportsarray
+array
+nsarrayfilter
+filter
+data
+nsisupportsarray
+result
+nscomptr
+nsisupportsarray
+nsresult
+rv
+nsnewisupportsarray
+getteraddrefs
+nsfailed
+rv
+rv
+pruint
+cnt
+rv
+array
+count
+cnt
+nsfailed
+rv
+rv
+pruint
+cnt
+nscomptr
+nsisupports
+element
+getteraddrefs
+array
+elementat
+filter
+element
+data
+appendelement
+element
+nserroroutofmemory
+result
+nsok
+nsimethodimp
+nsmsgfolder
+addunique
+nsisupports
+element
+msubfolders
+appendelement
+element
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgfolder
+replaceelement
+nsisupports
+element
+nsisupports
+newelement
+prbool
+success
+prfalse
+print
+location
+msubfolders
+indexof
+element
+location
+success
+msubfolders
+replaceelementat
+newelement
+location
+success
+nsok
+nserrorunexpected
+nsimethodimp
+nsmsgfolder
+getsubfolders
+nsienumerator
+result
+msubfolders
+enumerate
+result
+nsimethodimp
+nsmsgfolder
+findsubfolder
+aescapedsubfoldername
+nsifolder
+afolder
+nsresult
+rv
+nsok
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+krdfservicecid
+rv
+nsfailed
+rv
+rv
+nscautostring
+uri
+uri
+append
+muri
+uri
+append
+uri
+append
+aescapedsubfoldername
+nscomptr
+nsirdfresource
+res
+rv
+rdf
+getresource
+uri
+getteraddrefs
+res
+nsfailed
+rv
+rv
+nscomptr
+nsifolder
+folder
+doqueryinterface
+res
+rv
+nsfailed
+rv
+rv
+afolder
+nserrorunexpected
+afolder
+folder
+nsaddref
+afolder
+nsok
+nsimethodimp
+nsmsgfolder
+gethassubfolders
+prbool
+retval
+pruint
+cnt
+nsresult
+rv
+msubfolders
+count
+cnt
+nsfailed
+rv
+rv
+retval
+cnt
+nsok
+nsimethodimp
+nsmsgfolder
+addfolderlistener
+nsifolderlistener
+listener
+mlisteners
+appendelement
+listener
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgfolder
+removefolderlistener
+nsifolderlistener
+listener
+mlisteners
+removeelement
+listener
+nsok
+nsimethodimp
+nsmsgfolder
+setparent
+nsifolder
+aparent
+mparent
+getteraddrefs
+nsgetweakreference
+aparent
+aparent
+nsresult
+rv
+nscomptr
+nsimsgfolder
+parentmsgfolder
+doqueryinterface
+aparent
+rv
+nssucceeded
+rv
+misserver
+prfalse
+misserverisvalid
+prtrue
+nscomptr
+nsimsgincomingserver
+server
+rv
+parentmsgfolder
+getserver
+getteraddrefs
+server
+nssucceeded
+rv
+server
+mserver
+getteraddrefs
+nsgetweakreference
+server
+nsok
+nsimethodimp
+nsmsgfolder
+getparent
+nsifolder
+aparent
+nsensureargpointer
+aparent
+nscomptr
+nsifolder
+parent
+doqueryreferent
+mparent
+aparent
+parent
+nsifaddref
+aparent
+nsok
+nsimethodimp
+nsmsgfolder
+getparentmsgfolder
+nsimsgfolder
+aparentmsgfolder
+nsensureargpointer
+aparentmsgfolder
+nscomptr
+nsifolder
+parent
+nsresult
+rv
+getparent
+getteraddrefs
+parent
+nssucceeded
+rv
+parent
+rv
+parent
+queryinterface
+nsgetiid
+nsimsgfolder
+aparentmsgfolder
+rv
+nsimethodimp
+nsmsgfolder
+getmessages
+nsimsgwindow
+amsgwindow
+nsisimpleenumerator
+result
+nserrorfailure
+nsimethodimp
+nsmsgfolder
+startfolderloading
+nsok
+nsimethodimp
+nsmsgfolder
+endfolderloading
+nsok
+nsimethodimp
+nsmsgfolder
+updatefolder
+nsimsgwindow
+nsok
+nsimethodimp
+nsmsgfolder
+getfolderurl
+url
+url
+nserrornullpointer
+url
+nsok
+nsimethodimp
+nsmsgfolder
+getserver
+nsimsgincomingserver
+aserver
+nsensureargpointer
+aserver
+nsresult
+rv
+nscomptr
+nsimsgincomingserver
+server
+doqueryreferent
+mserver
+rv
+nsfailed
+rv
+server
+rv
+parseuri
+prtrue
+server
+doqueryreferent
+mserver
+aserver
+server
+nsifaddref
+aserver
+server
+nsok
+nserrornullpointer
+ifdef
+msgfasteruriparsing
+nsmsgautobool
+nsmsgautobool
+mvalue
+nsnull
+autoreset
+prbool
+avalue
+mvalue
+avalue
+nsmsgautobool
+mvalue
+mvalue
+prfalse
+prbool
+mvalue
+endif
+nsresult
+nsmsgfolder
+parseuri
+prbool
+needserver
+nsresult
+rv
+nscomptr
+nsiurl
+url
+ifdef
+msgfasteruriparsing
+nsmsgautobool
+parsingurlstate
+mparsingurlinuse
+url
+docreateinstance
+nsstandardurlcontractid
+rv
+url
+mparsingurl
+mparsingurlinuse
+prtrue
+parsingurlstate
+autoreset
+mparsingurlinuse
+url
+docreateinstance
+nsstandardurlcontractid
+rv
+nsfailed
+rv
+rv
+endif
+rv
+url
+setspec
+nsdependentcstring
+muri
+nsfailed
+rv
+rv
+misserverisvalid
+nscautostring
+path
+rv
+url
+getpath
+path
+nssucceeded
+rv
+strcmp
+path
+get
+misserver
+prtrue
+misserver
+prfalse
+misserverisvalid
+prtrue
+mname
+isempty
+nscautostring
+filename
+url
+getfilename
+filename
+filename
+isempty
+nsunescapeurl
+filename
+get
+mname
+nsconvertutftoucs
+filename
+get
+nscomptr
+nsimsgincomingserver
+server
+doqueryreferent
+mserver
+rv
+nsfailed
+rv
+server
+nscomptr
+nsimsgfolder
+parentmsgfolder
+rv
+getparentmsgfolder
+getteraddrefs
+parentmsgfolder
+nssucceeded
+rv
+parentmsgfolder
+rv
+parentmsgfolder
+getserver
+getteraddrefs
+server
+server
+needserver
+nscautostring
+userpass
+rv
+url
+getuserpass
+userpass
+nssucceeded
+rv
+userpass
+isempty
+nsunescape
+nsconstcast
+userpass
+get
+nscautostring
+hostname
+rv
+url
+gethost
+hostname
+nssucceeded
+rv
+hostname
+isempty
+nsunescape
+nsconstcast
+hostname
+get
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsfailed
+rv
+rv
+rv
+accountmanager
+findserver
+userpass
+get
+hostname
+get
+getincomingservertype
+getteraddrefs
+server
+nsfailed
+rv
+rv
+mserver
+getteraddrefs
+nsgetweakreference
+server
+server
+nscautostring
+newpath
+nscautostring
+urlpath
+url
+getfilepath
+urlpath
+urlpath
+isempty
+nsunescapeurl
+urlpath
+get
+nsmsgcreatepathstringfromfolderuri
+urlpath
+get
+newpath
+nscomptr
+nsifilespec
+serverpath
+rv
+server
+getlocalpath
+getteraddrefs
+serverpath
+nsfailed
+rv
+rv
+serverpath
+rv
+serverpath
+appendrelativeunixpath
+newpath
+get
+nsassertion
+nssucceeded
+rv
+failed
+to
+append
+to
+the
+serverpath
+nsfailed
+rv
+mpath
+nsnull
+rv
+mpath
+serverpath
+mhaveparseduri
+prtrue
+nsok
+nsimethodimp
+nsmsgfolder
+getisserver
+prbool
+aresult
+nsensureargpointer
+aresult
+misserverisvalid
+nsresult
+rv
+parseuri
+nsfailed
+rv
+misserverisvalid
+nserrorfailure
+aresult
+misserver
+nsok
+nsimethodimp
+nsmsgfolder
+getnoselect
+prbool
+aresult
+nsensureargpointer
+aresult
+aresult
+prfalse
+nsok
+nsimethodimp
+nsmsgfolder
+getimapshared
+prbool
+aresult
+nsensureargpointer
+aresult
+getflag
+msgfolderflagpersonalshared
+aresult
+nsimethodimp
+nsmsgfolder
+getcansubscribe
+prbool
+aresult
+nsensureargpointer
+aresult
+aresult
+prfalse
+nsok
+nsimethodimp
+nsmsgfolder
+getcanfilemessages
+prbool
+aresult
+nsensureargpointer
+aresult
+mflags
+msgfolderflagqueue
+aresult
+prfalse
+nsok
+prbool
+isserver
+prfalse
+nsresult
+rv
+getisserver
+isserver
+nsfailed
+rv
+rv
+aresult
+isserver
+nsok
+nsimethodimp
+nsmsgfolder
+getcandeletemessages
+prbool
+aresult
+nsensureargpointer
+aresult
+aresult
+prtrue
+nsok
+nsimethodimp
+nsmsgfolder
+getcancreatesubfolders
+prbool
+aresult
+nsensureargpointer
+aresult
+mflags
+msgfolderflagqueue
+aresult
+prfalse
+nsok
+aresult
+prtrue
+nsok
+nsimethodimp
+nsmsgfolder
+getcanrename
+prbool
+aresult
+nsensureargpointer
+aresult
+prbool
+isserver
+prfalse
+nsresult
+rv
+getisserver
+isserver
+nsfailed
+rv
+rv
+isserver
+aresult
+prfalse
+mflags
+msgfolderflagtrash
+mflags
+msgfolderflagdrafts
+mflags
+msgfolderflagqueue
+mflags
+msgfolderflaginbox
+mflags
+msgfolderflagsentmail
+mflags
+msgfolderflagtemplates
+mflags
+msgfolderflagjunk
+aresult
+prfalse
+aresult
+prtrue
+nsok
+nsimethodimp
+nsmsgfolder
+getcancompact
+prbool
+aresult
+nsensureargpointer
+aresult
+prbool
+isserver
+prfalse
+nsresult
+rv
+getisserver
+isserver
+nsensuresuccess
+rv
+rv
+aresult
+isserver
+nsok
+nsimethodimp
+nsmsgfolder
+getprettyname
+prunichar
+name
+getname
+name
+nsimethodimp
+nsmsgfolder
+setprettyname
+prunichar
+name
+nsresult
+rv
+nsautostring
+unicodename
+name
+mflags
+msgfolderflaginbox
+unicodename
+equals
+nsliteralstring
+inbox
+nscaseinsensitivestringcomparator
+rv
+setname
+klocalizedinboxname
+mflags
+msgfolderflagsentmail
+unicodename
+equals
+nsliteralstring
+sent
+nscaseinsensitivestringcomparator
+rv
+setname
+klocalizedsentname
+mflags
+msgfolderflagdrafts
+unicodename
+equals
+nsliteralstring
+drafts
+nscaseinsensitivestringcomparator
+unicodename
+equals
+nsliteralstring
+draft
+nscaseinsensitivestringcomparator
+rv
+setname
+klocalizeddraftsname
+mflags
+msgfolderflagtemplates
+unicodename
+equals
+nsliteralstring
+templates
+nscaseinsensitivestringcomparator
+rv
+setname
+klocalizedtemplatesname
+mflags
+msgfolderflagtrash
+unicodename
+equals
+nsliteralstring
+trash
+nscaseinsensitivestringcomparator
+rv
+setname
+klocalizedtrashname
+mflags
+msgfolderflagqueue
+unicodename
+equals
+nsliteralstring
+unsent
+messages
+nscaseinsensitivestringcomparator
+rv
+setname
+klocalizedunsentname
+mflags
+msgfolderflagjunk
+unicodename
+equals
+nsliteralstring
+junk
+nscaseinsensitivestringcomparator
+rv
+setname
+klocalizedjunkname
+rv
+setname
+name
+rv
+nsimethodimp
+nsmsgfolder
+getname
+prunichar
+name
+nsensureargpointer
+name
+nsresult
+rv
+mhaveparseduri
+mname
+isempty
+rv
+parseuri
+nsfailed
+rv
+rv
+misserver
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserver
+getteraddrefs
+server
+nssucceeded
+rv
+server
+server
+getprettyname
+name
+name
+tonewunicode
+mname
+name
+nserroroutofmemory
+nsok
+nsimethodimp
+nsmsgfolder
+setname
+prunichar
+name
+mname
+equals
+name
+mname
+name
+notifyunicharpropertychanged
+knameatom
+name
+name
+nsok
+nsimethodimp
+nsmsgfolder
+getabbreviatedname
+prunichar
+aabbreviatedname
+getname
+aabbreviatedname
+nsimethodimp
+nsmsgfolder
+getchildnamed
+prunichar
+name
+nsisupports
+achild
+nsassertion
+achild
+child
+nsresult
+rv
+achild
+nsnull
+pruint
+count
+rv
+msubfolders
+count
+count
+nsfailed
+rv
+rv
+pruint
+count
+nscomptr
+nsimsgfolder
+folder
+doqueryelementat
+msubfolders
+rv
+nssucceeded
+rv
+nsxpidlstring
+foldername
+rv
+folder
+getname
+gettercopies
+foldername
+nssucceeded
+rv
+foldername
+equals
+name
+nscaseinsensitivestringcomparator
+achild
+folder
+nsaddref
+achild
+nsok
+nsok
+nsimethodimp
+nsmsgfolder
+getchildwithuri
+uri
+prbool
+deep
+prbool
+caseinsensitive
+nsimsgfolder
+child
+nsassertion
+child
+child
+nsresult
+rv
+child
+nsnull
+nscomptr
+nsienumerator
+aenumerator
+rv
+getsubfolders
+getteraddrefs
+aenumerator
+nsfailed
+rv
+rv
+nscomptr
+nsisupports
+aitem
+rv
+aenumerator
+first
+nsfailed
+rv
+nsok
+nssucceeded
+rv
+rv
+aenumerator
+currentitem
+getteraddrefs
+aitem
+nsfailed
+rv
+nscomptr
+nsirdfresource
+folderresource
+doqueryinterface
+aitem
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+aitem
+folderresource
+folder
+folderuri
+rv
+folderresource
+getvalueconst
+folderuri
+nsfailed
+rv
+rv
+prbool
+equal
+equal
+folderuri
+caseinsensitive
+nscrt
+strcasecmp
+folderuri
+uri
+nscrt
+strcmp
+folderuri
+uri
+equal
+child
+folder
+nsaddref
+child
+nsok
+deep
+rv
+folder
+getchildwithuri
+uri
+deep
+caseinsensitive
+child
+nsfailed
+rv
+rv
+child
+nsok
+rv
+aenumerator
+next
+nsfailed
+rv
+rv
+nsok
+nsok
+nsimethodimp
+nsmsgfolder
+getprettiestname
+prunichar
+name
+nssucceeded
+getprettyname
+name
+nsok
+getname
+name
+nsimethodimp
+nsmsgfolder
+getshowdeletedmessages
+prbool
+showdeletedmessages
+showdeletedmessages
+nserrornullpointer
+showdeletedmessages
+prfalse
+nsok
+nsimethodimp
+nsmsgfolder
+forcedbclosed
+nsok
+nsimethodimp
+nsmsgfolder
+delete
+nsok
+nsimethodimp
+nsmsgfolder
+deletesubfolders
+nsisupportsarray
+folders
+nsimsgwindow
+msgwindow
+nsresult
+rv
+pruint
+count
+rv
+folders
+count
+count
+pruint
+count
+nscomptr
+nsimsgfolder
+folder
+doqueryelementat
+folders
+rv
+folder
+propagatedelete
+folder
+prtrue
+msgwindow
+rv
+nsimethodimp
+nsmsgfolder
+createstorageifmissing
+nsiurllistener
+nsassertion
+prfalse
+needs
+to
+be
+overridden
+nsok
+nsimethodimp
+nsmsgfolder
+propagatedelete
+nsimsgfolder
+folder
+prbool
+deletestorage
+nsimsgwindow
+msgwindow
+nsresult
+status
+nsok
+nscomptr
+nsimsgfolder
+child
+pruint
+cnt
+nsresult
+rv
+msubfolders
+count
+cnt
+nsfailed
+rv
+rv
+pruint
+cnt
+nscomptr
+nsisupports
+supports
+getteraddrefs
+msubfolders
+elementat
+child
+doqueryinterface
+supports
+status
+nssucceeded
+status
+folder
+child
+get
+child
+setparent
+nsnull
+status
+child
+recursivedelete
+deletestorage
+msgwindow
+status
+nsok
+msubfolders
+removeelement
+supports
+nscomptr
+nsisupports
+childsupports
+doqueryinterface
+child
+nscomptr
+nsisupports
+foldersupports
+rv
+queryinterface
+nsgetiid
+nsisupports
+getteraddrefs
+foldersupports
+childsupports
+nssucceeded
+rv
+notifyitemdeleted
+foldersupports
+childsupports
+folderview
+child
+setparent
+status
+child
+propagatedelete
+folder
+deletestorage
+msgwindow
+status
+nsimethodimp
+nsmsgfolder
+recursivedelete
+prbool
+deletestorage
+nsimsgwindow
+msgwindow
+nsresult
+status
+nsok
+pruint
+cnt
+nsresult
+rv
+msubfolders
+count
+cnt
+nsfailed
+rv
+rv
+cnt
+nscomptr
+nsisupports
+supports
+getteraddrefs
+msubfolders
+elementat
+nscomptr
+nsimsgfolder
+child
+doqueryinterface
+supports
+status
+nssucceeded
+status
+child
+setparent
+nsnull
+status
+child
+recursivedelete
+deletestorage
+msgwindow
+nssucceeded
+status
+msubfolders
+removeelement
+supports
+child
+setparent
+cnt
+deletestorage
+status
+nsok
+status
+delete
+status
+nsimethodimp
+nsmsgfolder
+createsubfolder
+prunichar
+foldername
+nsimsgwindow
+msgwindow
+nserrornotimplemented
+nsresult
+nsmsgfolder
+addsubfolder
+nsautostring
+foldername
+nsimsgfolder
+newfolder
+nserrornotimplemented
+nsimethodimp
+nsmsgfolder
+compact
+nsiurllistener
+alistener
+nsimsgwindow
+amsgwindow
+nserrornotimplemented
+nsimethodimp
+nsmsgfolder
+compactall
+nsiurllistener
+alistener
+nsimsgwindow
+amsgwindow
+nsisupportsarray
+afolderarray
+prbool
+acompactofflinealso
+nsisupportsarray
+acompactofflinearray
+nsassertion
+prfalse
+should
+be
+overridden
+by
+child
+nserrornotimplemented
+nsimethodimp
+nsmsgfolder
+emptytrash
+nsimsgwindow
+msgwindow
+nsiurllistener
+alistener
+nserrornotimplemented
+nsimethodimp
+nsmsgfolder
+rename
+prunichar
+name
+nsimsgwindow
+msgwindow
+nsresult
+status
+nsok
+nsautostring
+unicharstring
+name
+status
+setname
+prunichar
+unicharstring
+get
+status
+nsimethodimp
+nsmsgfolder
+renamesubfolders
+nsimsgwindow
+msgwindow
+nsimsgfolder
+oldfolder
+nserrornotimplemented
+nsimethodimp
+nsmsgfolder
+containschildnamed
+prunichar
+name
+prbool
+containschild
+containschild
+nserrornullpointer
+containschild
+prfalse
+nscomptr
+nsisupports
+child
+nssucceeded
+getchildnamed
+name
+getteraddrefs
+child
+containschild
+child
+nsnull
+nsok
+nsimethodimp
+nsmsgfolder
+isancestorof
+nsimsgfolder
+child
+prbool
+isancestor
+isancestor
+nserrornullpointer
+nsresult
+rv
+nsok
+pruint
+count
+rv
+msubfolders
+count
+count
+nsfailed
+rv
+rv
+pruint
+count
+nscomptr
+nsimsgfolder
+folder
+doqueryelementat
+msubfolders
+rv
+nssucceeded
+rv
+folder
+get
+child
+isancestor
+prtrue
+folder
+isancestorof
+child
+isancestor
+isancestor
+nsok
+isancestor
+prfalse
+rv
+nsimethodimp
+nsmsgfolder
+generateuniquesubfoldername
+prunichar
+prefix
+nsimsgfolder
+otherfolder
+prunichar
+name
+name
+nserrornullpointer
+count
+count
+count
+nsautostring
+uniquename
+uniquename
+assign
+prefix
+uniquename
+appendint
+count
+prbool
+containschild
+prbool
+othercontainschild
+prfalse
+containschildnamed
+uniquename
+get
+containschild
+otherfolder
+nsimsgfolder
+otherfolder
+containschildnamed
+uniquename
+get
+othercontainschild
+containschild
+othercontainschild
+name
+nscrt
+strdup
+uniquename
+get
+nsok
+name
+nsnull
+nsok
+nsimethodimp
+nsmsgfolder
+updatesummarytotals
+prbool
+nsok
+nsimethodimp
+nsmsgfolder
+summarychanged
+updatesummarytotals
+prfalse
+nsok
+nsimethodimp
+nsmsgfolder
+getnumunread
+prbool
+deep
+print
+numunread
+numunread
+nserrornullpointer
+nsresult
+rv
+pruint
+total
+mnumunreadmessages
+mnumpendingunreadmessages
+deep
+pruint
+count
+rv
+msubfolders
+count
+count
+nssucceeded
+rv
+pruint
+count
+nscomptr
+nsimsgfolder
+folder
+doqueryelementat
+msubfolders
+rv
+nssucceeded
+rv
+print
+num
+folder
+getnumunread
+deep
+num
+num
+total
+num
+numunread
+total
+nsok
+nsimethodimp
+nsmsgfolder
+gettotalmessages
+prbool
+deep
+print
+totalmessages
+totalmessages
+nserrornullpointer
+nsresult
+rv
+print
+total
+mnumtotalmessages
+mnumpendingtotalmessages
+deep
+pruint
+count
+rv
+msubfolders
+count
+count
+nssucceeded
+rv
+pruint
+count
+nscomptr
+nsimsgfolder
+folder
+doqueryelementat
+msubfolders
+rv
+nssucceeded
+rv
+print
+num
+folder
+gettotalmessages
+deep
+num
+num
+total
+num
+totalmessages
+total
+nsok
+print
+nsmsgfolder
+getnumpendingunread
+mnumpendingunreadmessages
+print
+nsmsgfolder
+getnumpendingtotalmessages
+mnumpendingtotalmessages
+nsimethodimp
+nsmsgfolder
+gethasnewmessages
+prbool
+hasnewmessages
+nsok
+nsimethodimp
+nsmsgfolder
+sethasnewmessages
+prbool
+hasnewmessages
+nsok
+nsimethodimp
+nsmsgfolder
+getfirstnewmessage
+nsimsgdbhdr
+firstnewmessage
+nsok
+nsimethodimp
+nsmsgfolder
+clearnewmessages
+nsok
+nsmsgfolder
+changenumpendingunread
+print
+delta
+delta
+print
+oldunreadmessages
+mnumunreadmessages
+mnumpendingunreadmessages
+mnumpendingunreadmessages
+delta
+print
+newunreadmessages
+mnumunreadmessages
+mnumpendingunreadmessages
+nscomptr
+nsimsgdatabase
+db
+nscomptr
+nsidbfolderinfo
+folderinfo
+nsresult
+rv
+getdbfolderinfoanddb
+getteraddrefs
+folderinfo
+getteraddrefs
+db
+nssucceeded
+rv
+folderinfo
+folderinfo
+setimapunreadpendingmessages
+mnumpendingunreadmessages
+notifyintpropertychanged
+ktotalunreadmessagesatom
+oldunreadmessages
+newunreadmessages
+nsmsgfolder
+changenumpendingtotalmessages
+print
+delta
+delta
+print
+oldtotalmessages
+mnumtotalmessages
+mnumpendingtotalmessages
+mnumpendingtotalmessages
+delta
+print
+newtotalmessages
+mnumtotalmessages
+mnumpendingtotalmessages
+nscomptr
+nsimsgdatabase
+db
+nscomptr
+nsidbfolderinfo
+folderinfo
+nsresult
+rv
+getdbfolderinfoanddb
+getteraddrefs
+folderinfo
+getteraddrefs
+db
+nssucceeded
+rv
+folderinfo
+folderinfo
+setimaptotalpendingmessages
+mnumpendingtotalmessages
+notifyintpropertychanged
+ktotalmessagesatom
+oldtotalmessages
+newtotalmessages
+nsimethodimp
+nsmsgfolder
+setprefflag
+nsresult
+rv
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+krdfservicecid
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsimsgaccountmanager
+accountmgr
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserver
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgidentity
+identity
+rv
+accountmgr
+getfirstidentityforserver
+server
+getteraddrefs
+identity
+nssucceeded
+rv
+identity
+nsxpidlcstring
+folderuri
+nscomptr
+nsirdfresource
+res
+nscomptr
+nsimsgfolder
+folder
+identity
+getfccfolder
+gettercopies
+folderuri
+folderuri
+nssucceeded
+rdf
+getresource
+folderuri
+getteraddrefs
+res
+folder
+doqueryinterface
+res
+rv
+nssucceeded
+rv
+rv
+folder
+setflag
+msgfolderflagsentmail
+identity
+getdraftfolder
+gettercopies
+folderuri
+folderuri
+nssucceeded
+rdf
+getresource
+folderuri
+getteraddrefs
+res
+folder
+doqueryinterface
+res
+rv
+nssucceeded
+rv
+rv
+folder
+setflag
+msgfolderflagdrafts
+identity
+getstationeryfolder
+gettercopies
+folderuri
+folderuri
+nssucceeded
+rdf
+getresource
+folderuri
+getteraddrefs
+res
+folder
+doqueryinterface
+res
+rv
+nssucceeded
+rv
+rv
+folder
+setflag
+msgfolderflagtemplates
+rv
+nsimethodimp
+nsmsgfolder
+setflag
+pruint
+flag
+prbool
+flagset
+nsresult
+rv
+nsfailed
+rv
+getflag
+flag
+flagset
+rv
+flagset
+mflags
+flag
+onflagchange
+flag
+nsok
+nsimethodimp
+nsmsgfolder
+clearflag
+pruint
+flag
+prbool
+flagset
+nsresult
+rv
+nsfailed
+rv
+getflag
+flag
+flagset
+rv
+flagset
+mflags
+flag
+onflagchange
+flag
+nsok
+nsimethodimp
+nsmsgfolder
+getflag
+pruint
+flag
+prbool
+retval
+retval
+mflags
+flag
+nsok
+nsimethodimp
+nsmsgfolder
+toggleflag
+pruint
+flag
+mflags
+flag
+onflagchange
+flag
+nsok
+nsimethodimp
+nsmsgfolder
+onflagchange
+pruint
+flag
+nsresult
+rv
+nsok
+nscomptr
+nsimsgdatabase
+db
+nscomptr
+nsidbfolderinfo
+folderinfo
+rv
+getdbfolderinfoanddb
+getteraddrefs
+folderinfo
+getteraddrefs
+db
+nssucceeded
+rv
+folderinfo
+ifdef
+debugbienvenu
+nsxpidlstring
+name
+rv
+getname
+gettercopies
+name
+nsassertion
+compare
+name
+klocalizedtrashname
+mflags
+msgfolderflagtrash
+lost
+trash
+flag
+endif
+folderinfo
+setflags
+print
+mflags
+db
+db
+commit
+nsmsgdbcommittype
+klargecommit
+flag
+msgfolderflagoffline
+prbool
+newvalue
+mflags
+msgfolderflagoffline
+rv
+notifyboolpropertychanged
+ksynchronizeatom
+newvalue
+newvalue
+nsensuresuccess
+rv
+rv
+flag
+msgfolderflagelided
+prbool
+newvalue
+mflags
+msgfolderflagelided
+rv
+notifyboolpropertychanged
+kopenatom
+newvalue
+newvalue
+nsensuresuccess
+rv
+rv
+folderinfo
+nsnull
+rv
+nsimethodimp
+nsmsgfolder
+setflags
+pruint
+aflags
+mflags
+aflags
+mflags
+aflags
+onflagchange
+mflags
+nsok
+nsimethodimp
+nsmsgfolder
+getfolderswithflag
+pruint
+flags
+pruint
+resultsize
+pruint
+numfolders
+nsimsgfolder
+result
+pruint
+num
+flags
+mflags
+flags
+result
+num
+resultsize
+result
+num
+nsifaddref
+result
+num
+num
+nsresult
+rv
+pruint
+cnt
+nscomptr
+nsienumerator
+enumerator
+rv
+getsubfolders
+getteraddrefs
+enumerator
+nsensuresuccess
+rv
+rv
+rv
+msubfolders
+count
+cnt
+nssucceeded
+rv
+pruint
+cnt
+nscomptr
+nsimsgfolder
+folder
+doqueryelementat
+msubfolders
+rv
+nssucceeded
+rv
+folder
+pruint
+numsubfolders
+result
+folder
+getfolderswithflag
+flags
+numsubfolders
+num
+numsubfolders
+num
+resultsize
+folder
+getfolderswithflag
+flags
+resultsize
+num
+numsubfolders
+result
+num
+num
+numsubfolders
+numfolders
+num
+nsok
+nsimethodimp
+nsmsgfolder
+getexpansionarray
+nsisupportsarray
+expansionarray
+nsresult
+rv
+pruint
+cnt
+rv
+msubfolders
+count
+cnt
+nsfailed
+rv
+rv
+pruint
+cnt
+nscomptr
+nsimsgfolder
+folder
+doqueryelementat
+msubfolders
+rv
+nssucceeded
+rv
+pruint
+cnt
+rv
+expansionarray
+count
+cnt
+nssucceeded
+rv
+expansionarray
+insertelementat
+folder
+cnt
+pruint
+flags
+folder
+getflags
+flags
+flags
+msgfolderflagelided
+folder
+getexpansionarray
+expansionarray
+nsok
+nsimethodimp
+nsmsgfolder
+getexpungedbytes
+pruint
+count
+count
+nserrornullpointer
+count
+nsok
+nsimethodimp
+nsmsgfolder
+getdeletable
+prbool
+deletable
+deletable
+nserrornullpointer
+deletable
+prfalse
+nsok
+nsimethodimp
+nsmsgfolder
+getrequirescleanup
+prbool
+requiredcleanup
+requiredcleanup
+nserrornullpointer
+requiredcleanup
+prfalse
+nsok
+nsimethodimp
+nsmsgfolder
+clearrequirescleanup
+nsok
+nsimethodimp
+nsmsgfolder
+getmanyheaderstodownload
+prbool
+retval
+nsensureargpointer
+retval
+retval
+prfalse
+nsok
+nsimethodimp
+nsmsgfolder
+getknowssearchnntpextension
+prbool
+knowsextension
+knowsextension
+nserrornullpointer
+knowsextension
+prfalse
+nsok
+nsimethodimp
+nsmsgfolder
+getallowsposting
+prbool
+allowsposting
+allowsposting
+nserrornullpointer
+allowsposting
+prtrue
+nsok
+nsimethodimp
+nsmsgfolder
+getdisplayrecipients
+prbool
+displayrecipients
+nsresult
+rv
+displayrecipients
+prfalse
+mflags
+msgfolderflagsentmail
+mflags
+msgfolderflaginbox
+displayrecipients
+prtrue
+mflags
+msgfolderflagqueue
+displayrecipients
+prtrue
+mflags
+msgfolderflagmail
+mflags
+msgfolderflagimapbox
+nsimsgfolder
+fccfolders
+numfccfolders
+numfccfolders
+prbool
+isancestor
+nssucceeded
+rv
+fccfolders
+isancestorof
+isancestor
+isancestor
+displayrecipients
+prtrue
+nsrelease
+fccfolders
+nsok
+nsimethodimp
+nsmsgfolder
+acquiresemaphore
+nsisupports
+semholder
+nsresult
+rv
+nsok
+msemaphoreholder
+msemaphoreholder
+semholder
+rv
+nsmsgfolderbusy
+rv
+nsimethodimp
+nsmsgfolder
+releasesemaphore
+nsisupports
+semholder
+msemaphoreholder
+msemaphoreholder
+semholder
+msemaphoreholder
+nsok
+nsimethodimp
+nsmsgfolder
+testsemaphore
+nsisupports
+semholder
+prbool
+result
+result
+nserrornullpointer
+result
+msemaphoreholder
+semholder
+nsok
+nsimethodimp
+nsmsgfolder
+getlocked
+prbool
+islocked
+islocked
+msemaphoreholder
+nsok
+nsimethodimp
+nsmsgfolder
+getrelativepathname
+pathname
+pathname
+nserrornullpointer
+pathname
+nsnull
+nsok
+nsimethodimp
+nsmsgfolder
+getsizeondisk
+pruint
+size
+size
+nserrornullpointer
+size
+nsok
+nsimethodimp
+nsmsgfolder
+setsizeondisk
+pruint
+asizeondisk
+notifyintpropertychanged
+kfoldersizeatom
+mfoldersize
+asizeondisk
+mfoldersize
+asizeondisk
+nsok
+nsimethodimp
+nsmsgfolder
+rememberpassword
+password
+nsok
+nsimethodimp
+nsmsgfolder
+getrememberedpassword
+password
+password
+nserrornullpointer
+password
+nsnull
+nsok
+nsimethodimp
+nsmsgfolder
+userneedstoauthenticateforfolder
+prbool
+displayonly
+prbool
+needsauthenticate
+needsauthenticate
+nserrornullpointer
+needsauthenticate
+prfalse
+nsok
+nsimethodimp
+nsmsgfolder
+getusername
+username
+nsensureargpointer
+username
+nsresult
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserver
+getteraddrefs
+server
+nsfailed
+rv
+rv
+server
+server
+getusername
+username
+nserrorunexpected
+nsimethodimp
+nsmsgfolder
+gethostname
+hostname
+nsensureargpointer
+hostname
+nsresult
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserver
+getteraddrefs
+server
+nsfailed
+rv
+rv
+server
+server
+gethostname
+hostname
+nserrorunexpected
+nsimethodimp
+nsmsgfolder
+getnewmessages
+nsimsgwindow
+nsiurllistener
+nserrornotimplemented
+nsimethodimp
+nsmsgfolder
+getbiffstate
+pruint
+abiffstate
+nscomptr
+nsimsgincomingserver
+server
+nsresult
+rv
+getserver
+getteraddrefs
+server
+nssucceeded
+rv
+server
+rv
+server
+getbiffstate
+abiffstate
+rv
+nsimethodimp
+nsmsgfolder
+setbiffstate
+pruint
+abiffstate
+pruint
+oldbiffstate
+nscomptr
+nsimsgincomingserver
+server
+nsresult
+rv
+getserver
+getteraddrefs
+server
+nssucceeded
+rv
+server
+rv
+server
+getbiffstate
+oldbiffstate
+oldbiffstate
+abiffstate
+abiffstate
+nsmsgbiffstatenomail
+setnumnewmessages
+oldbiffstate
+nsmsgbiffstateunknown
+abiffstate
+nsmsgbiffstatenomail
+misserver
+nscomptr
+nsimsgfolder
+folder
+rv
+getrootfolder
+getteraddrefs
+folder
+nssucceeded
+rv
+folder
+folder
+setbiffstate
+abiffstate
+server
+server
+setbiffstate
+abiffstate
+nscomptr
+nsisupports
+supports
+nssucceeded
+queryinterface
+nsgetiid
+nsisupports
+getteraddrefs
+supports
+notifypropertyflagchanged
+supports
+kbiffstateatom
+oldbiffstate
+abiffstate
+abiffstate
+nsmsgbiffstatenomail
+setnumnewmessages
+nsok
+nsimethodimp
+nsmsgfolder
+getnumnewmessages
+prbool
+deep
+print
+anumnewmessages
+anumnewmessages
+nserrornullpointer
+print
+numnewmessages
+mnumnewbiffmessages
+deep
+pruint
+count
+nsresult
+rv
+nsok
+rv
+msubfolders
+count
+count
+nssucceeded
+rv
+pruint
+count
+nscomptr
+nsimsgfolder
+folder
+doqueryelementat
+msubfolders
+rv
+nssucceeded
+rv
+print
+num
+folder
+getnumnewmessages
+deep
+num
+num
+numnewmessages
+num
+anumnewmessages
+numnewmessages
+nsok
+nsimethodimp
+nsmsgfolder
+setnumnewmessages
+print
+anumnewmessages
+anumnewmessages
+mnumnewbiffmessages
+print
+oldnummessages
+mnumnewbiffmessages
+mnumnewbiffmessages
+anumnewmessages
+nscautostring
+oldnummessagesstr
+oldnummessagesstr
+appendint
+oldnummessages
+nscautostring
+newnummessagesstr
+newnummessagesstr
+appendint
+anumnewmessages
+notifypropertychanged
+knumnewbiffmessagesatom
+oldnummessagesstr
+get
+newnummessagesstr
+get
+nsok
+nsimethodimp
+nsmsgfolder
+getnewmessagesnotificationdescription
+prunichar
+adescription
+nsresult
+rv
+nsautostring
+description
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserver
+getteraddrefs
+server
+nssucceeded
+rv
+mflags
+msgfolderflaginbox
+nsxpidlstring
+foldername
+rv
+getprettyname
+gettercopies
+foldername
+nssucceeded
+rv
+foldername
+description
+assign
+foldername
+nsxpidlstring
+servername
+rv
+server
+getprettyname
+gettercopies
+servername
+nssucceeded
+rv
+mflags
+msgfolderflaginbox
+description
+append
+nsliteralstring
+on
+description
+append
+servername
+adescription
+tonewunicode
+description
+nsok
+nsimethodimp
+nsmsgfolder
+getrootfolder
+nsimsgfolder
+arootfolder
+arootfolder
+nserrornullpointer
+nsresult
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserver
+getteraddrefs
+server
+nsfailed
+rv
+rv
+nsassertion
+server
+server
+is
+server
+nserrornullpointer
+rv
+server
+getrootmsgfolder
+arootfolder
+arootfolder
+nserrornullpointer
+rv
+nsimethodimp
+nsmsgfolder
+getmsgdatabase
+nsimsgwindow
+amsgwindow
+nsimsgdatabase
+amsgdatabase
+nserrornotimplemented
+nsimethodimp
+nsmsgfolder
+getpath
+nsifilespec
+apath
+nsensureargpointer
+apath
+nsresult
+rv
+nsok
+mpath
+rv
+parseuri
+prtrue
+apath
+mpath
+nsifaddref
+apath
+rv
+nsimethodimp
+nsmsgfolder
+setpath
+nsifilespec
+apath
+mpath
+apath
+nsok
+nsimethodimp
+nsmsgfolder
+markmessagesread
+nsisupportsarray
+messages
+prbool
+markread
+pruint
+count
+nsresult
+rv
+rv
+messages
+count
+count
+nsfailed
+rv
+rv
+pruint
+count
+nscomptr
+nsimsgdbhdr
+message
+doqueryelementat
+messages
+rv
+message
+rv
+message
+markread
+markread
+nsfailed
+rv
+rv
+nsok
+nsimethodimp
+nsmsgfolder
+markmessagesflagged
+nsisupportsarray
+messages
+prbool
+markflagged
+pruint
+count
+nsresult
+rv
+rv
+messages
+count
+count
+nsfailed
+rv
+rv
+pruint
+count
+nscomptr
+nsimsgdbhdr
+message
+doqueryelementat
+messages
+rv
+message
+rv
+message
+markflagged
+markflagged
+nsfailed
+rv
+rv
+nsok
+nsimethodimp
+nsmsgfolder
+setlabelformessages
+nsisupportsarray
+amessages
+nsmsglabelvalue
+alabel
+pruint
+count
+nsensurearg
+amessages
+nsresult
+rv
+amessages
+count
+count
+nsensuresuccess
+rv
+rv
+pruint
+count
+nscomptr
+nsimsgdbhdr
+message
+doqueryelementat
+amessages
+rv
+nsensuresuccess
+rv
+rv
+rv
+message
+setlabel
+alabel
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsmsgfolder
+addmessagedispositionstate
+nsimsgdbhdr
+amessage
+nsmsgdispositionstate
+adispositionflag
+nsok
+nsimethodimp
+nsmsgfolder
+markallmessagesread
+nserrornotimplemented
+nsimethodimp
+nsmsgfolder
+markthreadread
+nsimsgthread
+thread
+nserrornotimplemented
+nsimethodimp
+nsmsgfolder
+copymessages
+nsimsgfolder
+srcfolder
+nsisupportsarray
+messages
+prbool
+ismove
+nsimsgwindow
+window
+nsimsgcopyservicelistener
+listener
+prbool
+isfolder
+prbool
+allowundo
+nserrornotimplemented
+nsimethodimp
+nsmsgfolder
+copyfolder
+nsimsgfolder
+srcfolder
+prbool
+ismovefolder
+nsimsgwindow
+window
+nsimsgcopyservicelistener
+listener
+nsassertion
+prfalse
+should
+be
+overridden
+by
+child
+nserrornotimplemented
+nsimethodimp
+nsmsgfolder
+copyfilemessage
+nsifilespec
+filespec
+nsimsgdbhdr
+messagetoreplace
+prbool
+isdraftortemplate
+nsimsgwindow
+window
+nsimsgcopyservicelistener
+listener
+nserrornotimplemented
+nsimethodimp
+nsmsgfolder
+matchname
+nsstring
+name
+prbool
+matches
+matches
+nserrornullpointer
+matches
+mname
+equals
+name
+nscaseinsensitivestringcomparator
+nsok
+nsresult
+nsmsgfolder
+notifypropertychanged
+nsiatom
+property
+oldvalue
+newvalue
+nscomptr
+nsisupports
+supports
+nssucceeded
+queryinterface
+nsgetiid
+nsisupports
+getteraddrefs
+supports
+print
+mlisteners
+count
+nsifolderlistener
+listener
+nsifolderlistener
+mlisteners
+elementat
+listener
+onitempropertychanged
+supports
+property
+oldvalue
+newvalue
+nsresult
+rv
+nscomptr
+nsifolderlistener
+folderlistenermanager
+dogetservice
+nsmsgmailsessioncontractid
+rv
+nssucceeded
+rv
+folderlistenermanager
+onitempropertychanged
+supports
+property
+oldvalue
+newvalue
+nsok
+nsresult
+nsmsgfolder
+notifyunicharpropertychanged
+nsiatom
+property
+prunichar
+oldvalue
+prunichar
+newvalue
+nsresult
+rv
+nscomptr
+nsisupports
+supports
+rv
+queryinterface
+nsgetiid
+nsisupports
+getteraddrefs
+supports
+nsfailed
+rv
+rv
+print
+mlisteners
+count
+nsifolderlistener
+listener
+nsifolderlistener
+mlisteners
+elementat
+listener
+onitemunicharpropertychanged
+supports
+property
+oldvalue
+newvalue
+nscomptr
+nsifolderlistener
+folderlistenermanager
+dogetservice
+nsmsgmailsessioncontractid
+rv
+nssucceeded
+rv
+rv
+folderlistenermanager
+onitemunicharpropertychanged
+supports
+property
+oldvalue
+newvalue
+nsok
+nsresult
+nsmsgfolder
+notifyintpropertychanged
+nsiatom
+property
+print
+oldvalue
+print
+newvalue
+mnotifycountchanges
+property
+ktotalmessagesatom
+property
+ktotalunreadmessagesatom
+nsok
+nscomptr
+nsisupports
+supports
+nssucceeded
+queryinterface
+nsgetiid
+nsisupports
+getteraddrefs
+supports
+print
+mlisteners
+count
+nsifolderlistener
+listener
+nsifolderlistener
+mlisteners
+elementat
+listener
+onitemintpropertychanged
+supports
+property
+oldvalue
+newvalue
+nsresult
+rv
+nscomptr
+nsifolderlistener
+folderlistenermanager
+dogetservice
+nsmsgmailsessioncontractid
+rv
+nssucceeded
+rv
+folderlistenermanager
+onitemintpropertychanged
+supports
+property
+oldvalue
+newvalue
+nsok
+nsresult
+nsmsgfolder
+notifyboolpropertychanged
+nsiatom
+property
+prbool
+oldvalue
+prbool
+newvalue
+nscomptr
+nsisupports
+supports
+nssucceeded
+queryinterface
+nsgetiid
+nsisupports
+getteraddrefs
+supports
+print
+mlisteners
+count
+nsifolderlistener
+listener
+nsifolderlistener
+mlisteners
+elementat
+listener
+onitemboolpropertychanged
+supports
+property
+oldvalue
+newvalue
+nsresult
+rv
+nscomptr
+nsifolderlistener
+folderlistenermanager
+dogetservice
+nsmsgmailsessioncontractid
+rv
+nssucceeded
+rv
+folderlistenermanager
+onitemboolpropertychanged
+supports
+property
+oldvalue
+newvalue
+nsok
+nsresult
+nsmsgfolder
+notifypropertyflagchanged
+nsisupports
+item
+nsiatom
+property
+pruint
+oldvalue
+pruint
+newvalue
+print
+mlisteners
+count
+nsifolderlistener
+listener
+nsifolderlistener
+mlisteners
+elementat
+listener
+onitempropertyflagchanged
+item
+property
+oldvalue
+newvalue
+nsresult
+rv
+nscomptr
+nsifolderlistener
+folderlistenermanager
+dogetservice
+nsmsgmailsessioncontractid
+rv
+nssucceeded
+rv
+folderlistenermanager
+onitempropertyflagchanged
+item
+property
+oldvalue
+newvalue
+nsok
+nsresult
+nsmsgfolder
+notifyitemadded
+nsisupports
+parentitem
+nsisupports
+item
+viewstring
+prbool
+notify
+prtrue
+notify
+nsok
+print
+mlisteners
+count
+nsifolderlistener
+listener
+nsifolderlistener
+mlisteners
+elementat
+listener
+onitemadded
+parentitem
+item
+viewstring
+nsresult
+rv
+nscomptr
+nsifolderlistener
+folderlistenermanager
+dogetservice
+nsmsgmailsessioncontractid
+rv
+nssucceeded
+rv
+folderlistenermanager
+onitemadded
+parentitem
+item
+viewstring
+nsok
+nsresult
+nsmsgfolder
+notifyitemdeleted
+nsisupports
+parentitem
+nsisupports
+item
+viewstring
+print
+mlisteners
+count
+nsifolderlistener
+listener
+nsifolderlistener
+mlisteners
+elementat
+listener
+onitemremoved
+parentitem
+item
+viewstring
+nsresult
+rv
+nscomptr
+nsifolderlistener
+folderlistenermanager
+dogetservice
+nsmsgmailsessioncontractid
+rv
+nssucceeded
+rv
+folderlistenermanager
+onitemremoved
+parentitem
+item
+viewstring
+nsok
+nsresult
+nsmsgfolder
+notifyfolderevent
+nsiatom
+aevent
+print
+mlisteners
+count
+nsifolderlistener
+listener
+nsifolderlistener
+mlisteners
+elementat
+listener
+onitemevent
+aevent
+nsresult
+rv
+nscomptr
+nsifolderlistener
+folderlistenermanager
+dogetservice
+nsmsgmailsessioncontractid
+rv
+nssucceeded
+rv
+folderlistenermanager
+onitemevent
+aevent
+nsok
+nsresult
+nsgetmailfolderseparator
+nsstring
+result
+result
+assign
+nsliteralstring
+sbd
+nsok
+nsimethodimp
+nsmsgfolder
+getfilterlist
+nsimsgwindow
+amsgwindow
+nsimsgfilterlist
+aresult
+nsresult
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserver
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+nsensuretrue
+server
+nserrorfailure
+server
+getfilterlist
+amsgwindow
+aresult
+nsimethodimp
+nsmsgfolder
+setfilterlist
+nsimsgfilterlist
+afilterlist
+nsresult
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserver
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+nsensuretrue
+server
+nserrorfailure
+server
+setfilterlist
+afilterlist
+nsimethodimp
+nsmsgfolder
+enablenotifications
+print
+notificationtype
+prbool
+enable
+prbool
+dbbatching
+notificationtype
+nsimsgfolder
+allmessagecountnotifications
+mnotifycountchanges
+enable
+nscomptr
+nsimsgdatabase
+database
+dbbatching
+getmsgdatabase
+nsnull
+getteraddrefs
+database
+enable
+database
+database
+endbatch
+updatesummarytotals
+prtrue
+database
+database
+startbatch
+nsok
+nserrornotimplemented
+nsimethodimp
+nsmsgfolder
+getmessageheader
+nsmsgkey
+msgkey
+nsimsgdbhdr
+amsghdr
+nsresult
+rv
+nsok
+amsghdr
+nscomptr
+nsimsgdatabase
+database
+rv
+getmsgdatabase
+nsnull
+getteraddrefs
+database
+nssucceeded
+rv
+database
+rv
+database
+getmsghdrforkey
+msgkey
+amsghdr
+rv
+nserrornullpointer
+rv
+nsimethodimp
+nsmsgfolder
+listdescendents
+nsisupportsarray
+descendents
+nsensurearg
+descendents
+pruint
+cnt
+nsresult
+rv
+msubfolders
+count
+cnt
+nsfailed
+rv
+rv
+pruint
+index
+index
+cnt
+index
+nsresult
+rv
+nscomptr
+nsisupports
+supports
+doqueryelementat
+msubfolders
+index
+nscomptr
+nsimsgfolder
+child
+doqueryinterface
+supports
+rv
+nssucceeded
+rv
+descendents
+appendelement
+supports
+rv
+nserroroutofmemory
+rv
+child
+listdescendents
+descendents
+rv
+nsimethodimp
+nsmsgfolder
+getbasemessageuri
+basemessageuri
+nsensureargpointer
+basemessageuri
+mbasemessageuri
+nserrorfailure
+basemessageuri
+nscrt
+strdup
+mbasemessageuri
+nsok
+nsimethodimp
+nsmsgfolder
+geturiformsg
+nsimsgdbhdr
+msghdr
+auri
+nsensurearg
+msghdr
+nsensurearg
+auri
+nsmsgkey
+msgkey
+msghdr
+getmessagekey
+msgkey
+nscautostring
+uri
+uri
+assign
+mbasemessageuri
+uri
+append
+uri
+appendint
+msgkey
+auri
+tonewcstring
+uri
+nsok
+nsimethodimp
+nsmsgfolder
+generatemessageuri
+nsmsgkey
+msgkey
+auri
+nsensureargpointer
+auri
+nsxpidlcstring
+baseuri
+nsresult
+rv
+getbasemessageuri
+gettercopies
+baseuri
+nsensuresuccess
+rv
+rv
+nscautostring
+uri
+uri
+assign
+baseuri
+uri
+append
+uri
+appendint
+msgkey
+auri
+tonewcstring
+uri
+auri
+nserroroutofmemory
+nsok
+nsresult
+nsmsgfolder
+getbasestringbundle
+nsistringbundle
+abundle
+nsresult
+rv
+nsok
+nsensureargpointer
+abundle
+nscomptr
+nsistringbundleservice
+bundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nscomptr
+nsistringbundle
+bundle
+bundleservice
+nssucceeded
+rv
+bundleservice
+createbundle
+messenger
+locale
+messenger
+properties
+getteraddrefs
+bundle
+abundle
+bundle
+nsifaddref
+abundle
+rv
+nsresult
+nsmsgfolder
+getstringfrombundle
+msgname
+prunichar
+aresult
+nsresult
+rv
+nsok
+nsensureargpointer
+aresult
+nscomptr
+nsistringbundle
+bundle
+rv
+getbasestringbundle
+getteraddrefs
+bundle
+nssucceeded
+rv
+bundle
+rv
+bundle
+getstringfromname
+nsconvertasciitoucs
+msgname
+get
+aresult
+rv
+nsresult
+nsmsgfolder
+throwconfirmationprompt
+nsimsgwindow
+msgwindow
+prunichar
+confirmstring
+prbool
+confirmed
+nsresult
+rv
+nsok
+msgwindow
+nscomptr
+nsidocshell
+docshell
+msgwindow
+getrootdocshell
+getteraddrefs
+docshell
+docshell
+nscomptr
+nsiprompt
+dialog
+dogetinterface
+docshell
+dialog
+confirmstring
+dialog
+confirm
+nsnull
+confirmstring
+confirmed
+rv
+nsimethodimp
+nsmsgfolder
+getstringwithfoldernamefrombundle
+msgname
+prunichar
+aresult
+nscomptr
+nsistringbundle
+bundle
+nsresult
+rv
+getbasestringbundle
+getteraddrefs
+bundle
+nssucceeded
+rv
+bundle
+nsxpidlstring
+foldername
+getname
+gettercopies
+foldername
+prunichar
+formatstrings
+foldername
+rv
+bundle
+formatstringfromname
+nsconvertasciitoucs
+msgname
+get
+formatstrings
+aresult
+rv
+nsimethodimp
+nsmsgfolder
+confirmfolderdeletionforfilter
+nsimsgwindow
+msgwindow
+prbool
+confirmed
+nsxpidlstring
+confirmstring
+nsresult
+rv
+getstringwithfoldernamefrombundle
+confirmfolderdeletionforfilter
+gettercopies
+confirmstring
+nssucceeded
+rv
+confirmstring
+rv
+throwconfirmationprompt
+msgwindow
+confirmstring
+get
+confirmed
+rv
+nsimethodimp
+nsmsgfolder
+throwalertmsg
+msgname
+nsimsgwindow
+msgwindow
+nsxpidlstring
+alertstring
+nsresult
+rv
+getstringwithfoldernamefrombundle
+msgname
+gettercopies
+alertstring
+nssucceeded
+rv
+alertstring
+msgwindow
+nscomptr
+nsidocshell
+docshell
+msgwindow
+getrootdocshell
+getteraddrefs
+docshell
+docshell
+nscomptr
+nsiprompt
+dialog
+dogetinterface
+docshell
+dialog
+alertstring
+dialog
+alert
+nsnull
+alertstring
+rv
+nsimethodimp
+nsmsgfolder
+alertfilterchanged
+nsimsgwindow
+msgwindow
+nsresult
+rv
+nsok
+prbool
+checkbox
+prfalse
+getwarnfilterchanged
+checkbox
+msgwindow
+checkbox
+nscomptr
+nsidocshell
+docshell
+msgwindow
+getrootdocshell
+getteraddrefs
+docshell
+nsxpidlstring
+alertstring
+rv
+getstringfrombundle
+alertfilterchanged
+gettercopies
+alertstring
+nsxpidlstring
+alertcheckbox
+rv
+getstringfrombundle
+alertfiltercheckbox
+gettercopies
+alertcheckbox
+alertstring
+alertcheckbox
+docshell
+nscomptr
+nsiprompt
+dialog
+dogetinterface
+docshell
+dialog
+dialog
+alertcheck
+nsnull
+alertstring
+alertcheckbox
+checkbox
+setwarnfilterchanged
+checkbox
+rv
+nsresult
+nsmsgfolder
+getwarnfilterchanged
+prbool
+aval
+nsensurearg
+aval
+nsresult
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nssucceeded
+rv
+prefbranch
+rv
+prefbranch
+getboolpref
+prefmailwarnfilterchanged
+aval
+nsfailed
+rv
+aval
+prfalse
+rv
+nsok
+rv
+nsresult
+nsmsgfolder
+setwarnfilterchanged
+prbool
+aval
+nsresult
+rv
+nsok
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nssucceeded
+rv
+prefbranch
+rv
+prefbranch
+setboolpref
+prefmailwarnfilterchanged
+aval
+rv
+nsimethodimp
+nsmsgfolder
+notifycompactcompleted
+nsassertion
+prfalse
+should
+be
+overridden
+by
+child
+nserrornotimplemented
+nsimethodimp
+nsmsgfolder
+setsortorder
+print
+order
+nsassertion
+prfalse
+implemented
+nserrornotimplemented
+nsimethodimp
+nsmsgfolder
+getsortorder
+print
+order
+nsensureargpointer
+order
+pruint
+flags
+nsresult
+rv
+getflags
+flags
+nsensuresuccess
+rv
+rv
+flags
+msgfolderflaginbox
+order
+flags
+msgfolderflagqueue
+order
+flags
+msgfolderflagdrafts
+order
+flags
+msgfolderflagtemplates
+order
+flags
+msgfolderflagsentmail
+order
+flags
+msgfolderflagjunk
+order
+flags
+msgfolderflagtrash
+order
+order
+nsok
+nsimethodimp
+nsmsgfolder
+getsortkey
+pruint
+akey
+pruint
+alength
+nsresult
+rv
+nsensurearg
+akey
+print
+order
+rv
+getsortorder
+order
+nsensuresuccess
+rv
+rv
+nsautostring
+orderstring
+orderstring
+appendint
+order
+nsxpidlstring
+foldername
+rv
+getname
+gettercopies
+foldername
+nsensuresuccess
+rv
+rv
+orderstring
+append
+foldername
+rv
+createcollationkey
+orderstring
+akey
+alength
+rv
+nsimethodimp
+nsmsgfolder
+getpersistelided
+prbool
+apersistelided
+apersistelided
+prtrue
+nsok
+nsresult
+nsmsgfolder
+createcollationkey
+nsstring
+asource
+pruint
+akey
+pruint
+alength
+nsresult
+rv
+nsassertion
+kcollationkeygenerator
+kcollationkeygenerator
+is
+kcollationkeygenerator
+nserrornullpointer
+rv
+kcollationkeygenerator
+getsortkeylen
+kcollationcaseinsensitive
+asource
+alength
+nsensuresuccess
+rv
+rv
+alength
+nserrorfailure
+akey
+pruint
+prmalloc
+alength
+akey
+nserroroutofmemory
+kcollationkeygenerator
+createrawsortkey
+kcollationcaseinsensitive
+asource
+akey
+alength
+nsimethodimp
+nsmsgfolder
+comparesortkeys
+nsimsgfolder
+afolder
+print
+sortorder
+nsresult
+rv
+pruint
+sortkey
+nsnull
+pruint
+sortkey
+nsnull
+pruint
+sortkeylength
+pruint
+sortkeylength
+rv
+getsortkey
+sortkey
+sortkeylength
+nsensuresuccess
+rv
+rv
+afolder
+getsortkey
+sortkey
+sortkeylength
+nsensuresuccess
+rv
+rv
+rv
+kcollationkeygenerator
+comparerawsortkey
+sortkey
+sortkeylength
+sortkey
+sortkeylength
+sortorder
+prfree
+sortkey
+prfree
+sortkey
+rv nsresult
\ No newline at end of file
@@ -0,0 +1,1205 @@
+nsicharsetconvertermanager
+nsicharsetalias
+nsiplatformcharset
+nsiservicemanager
+nsicharsetconvertermanager
+nsisupports
+nsiprefbranch
+nsiprefservice
+nsipreflocalizedstring
+nsimimeconverter
+msgcore
+nsmsgin
+nsfilespec
+nsfilestream
+nsmsgmimecid
+nsmimetypes
+nsientityconverter
+nsisaveascharset
+nshankakutozenkakucid
+nsxpidlstring
+nsstring
+nsreadableutils
+prmem
+nsfilespec
+nsunicharutils
+nsdefinecid
+kcharsetconvertermanagercid
+nsicharsetconvertermanagercid
+nsdefinecid
+kentityconvertercid
+nsentityconvertercid
+nsresult
+nsmsginconvertfromunicode
+nscstring
+acharset
+nsstring
+instring
+nscstring
+outstring
+instring
+isempty
+outstring
+truncate
+nsok
+acharset
+isempty
+acharset
+equalsignorecase
+us
+ascii
+acharset
+equalsignorecase
+iso
+outstring
+assignwithconversion
+instring
+nsok
+acharset
+equalsignorecase
+utf
+tonewutfstring
+instring
+nserroroutofmemory
+outstring
+assign
+recycle
+nsok
+nscautostring
+convcharset
+nsliteralcstring
+iso
+nsresult
+res
+nscomptr
+nsicharsetalias
+calias
+dogetservice
+nscharsetaliascontractid
+res
+nssucceeded
+res
+acharset
+isempty
+res
+calias
+getpreferred
+acharset
+convcharset
+nscomptr
+nsicharsetconvertermanager
+ccm
+dogetservice
+nscharsetconvertermanagercontractid
+res
+nssucceeded
+res
+nscomptr
+nsiunicodeencoder
+encoder
+res
+ccm
+getunicodeencoderraw
+convcharset
+get
+getteraddrefs
+encoder
+nssucceeded
+res
+res
+encoder
+setoutputerrorbehavior
+nsiunicodeencoder
+konerrorreplace
+nsnull
+nssucceeded
+res
+prunichar
+originalsrcptr
+instring
+get
+prunichar
+currentsrcptr
+nsconstcast
+prunichar
+originalsrcptr
+print
+originalunicharlength
+instring
+length
+print
+srclength
+print
+dstlength
+localbuf
+print
+consumedlen
+outstring
+assign
+consumedlen
+originalunicharlength
+srclength
+originalunicharlength
+consumedlen
+dstlength
+res
+encoder
+convert
+currentsrcptr
+srclength
+localbuf
+dstlength
+nsfailed
+res
+dstlength
+outstring
+append
+localbuf
+dstlength
+currentsrcptr
+srclength
+consumedlen
+currentsrcptr
+originalsrcptr
+res
+encoder
+finish
+localbuf
+dstlength
+nssucceeded
+res
+outstring
+append
+localbuf
+dstlength
+res
+nsresult
+nsmsginconverttounicode
+nscstring
+acharset
+nscstring
+instring
+nsstring
+outstring
+instring
+isempty
+outstring
+truncate
+nsok
+acharset
+isempty
+acharset
+equalsignorecase
+us
+ascii
+acharset
+equalsignorecase
+iso
+outstring
+assignwithconversion
+instring
+get
+nsok
+nscautostring
+convcharset
+nsresult
+res
+nscomptr
+nsicharsetalias
+calias
+dogetservice
+nscharsetaliascontractid
+res
+nssucceeded
+res
+acharset
+isempty
+res
+calias
+getpreferred
+acharset
+convcharset
+nsfailed
+res
+res
+nscomptr
+nsicharsetconvertermanager
+ccm
+dogetservice
+nscharsetconvertermanagercontractid
+res
+nssucceeded
+res
+nscomptr
+nsiunicodedecoder
+decoder
+res
+ccm
+getunicodedecoderraw
+convcharset
+get
+getteraddrefs
+decoder
+nssucceeded
+res
+originalsrcptr
+instring
+get
+currentsrcptr
+nsconstcast
+originalsrcptr
+print
+originallength
+instring
+length
+print
+srclength
+print
+dstlength
+prunichar
+localbuf
+print
+consumedlen
+outstring
+assign
+nsliteralstring
+consumedlen
+originallength
+srclength
+originallength
+consumedlen
+dstlength
+res
+decoder
+convert
+currentsrcptr
+srclength
+localbuf
+dstlength
+nsfailed
+res
+dstlength
+outstring
+append
+localbuf
+dstlength
+currentsrcptr
+srclength
+consumedlen
+currentsrcptr
+originalsrcptr
+res
+nsresult
+convertfromunicode
+acharset
+nsstring
+instring
+outcstring
+nsensureargpointer
+acharset
+nsensureargpointer
+outcstring
+outcstring
+instring
+isempty
+outcstring
+nscrt
+strdup
+outcstring
+nserroroutofmemory
+nsok
+acharset
+nscrt
+strcasecmp
+us
+ascii
+acharset
+nscrt
+strcasecmp
+iso
+acharset
+outcstring
+tonewcstring
+instring
+outcstring
+nsok
+nserroroutofmemory
+nscrt
+strcasecmp
+utf
+acharset
+outcstring
+tonewutfstring
+instring
+outcstring
+nsok
+nserroroutofmemory
+nsresult
+res
+nscomptr
+nsicharsetconvertermanager
+ccm
+dogetservice
+nscharsetconvertermanagercontractid
+res
+nsensuresuccess
+res
+res
+nscomptr
+nsiunicodeencoder
+encoder
+res
+ccm
+getunicodeencoder
+acharset
+getteraddrefs
+encoder
+nsensuresuccess
+res
+res
+prunichar
+unichars
+prunichar
+instring
+get
+print
+unicharlength
+instring
+length
+print
+dstlength
+res
+encoder
+getmaxlength
+unichars
+unicharlength
+dstlength
+nsensuresuccess
+res
+res
+res
+encoder
+setoutputerrorbehavior
+nsiunicodeencoder
+konerrorreplace
+nsnull
+nsensuresuccess
+res
+res
+outcstring
+prmalloc
+dstlength
+nsensuretrue
+outcstring
+nserroroutofmemory
+print
+bufflength
+dstlength
+outcstring
+res
+encoder
+convert
+unichars
+unicharlength
+outcstring
+dstlength
+nssucceeded
+res
+print
+finlen
+bufflength
+dstlength
+res
+encoder
+finish
+outcstring
+dstlength
+finlen
+nssucceeded
+res
+dstlength
+finlen
+outcstring
+dstlength
+res
+nsresult
+converttounicode
+acharset
+incstring
+nsstring
+outstring
+nsensureargpointer
+acharset
+nsensureargpointer
+incstring
+incstring
+outstring
+truncate
+nsok
+acharset
+nscrt
+strcasecmp
+us
+ascii
+acharset
+nscrt
+strcasecmp
+iso
+acharset
+nscrt
+isascii
+incstring
+outstring
+assignwithconversion
+incstring
+nsok
+nsresult
+res
+nscomptr
+nsicharsetconvertermanager
+ccm
+dogetservice
+nscharsetconvertermanagercontractid
+res
+nsensuresuccess
+res
+res
+nscomptr
+nsiunicodedecoder
+decoder
+res
+ccm
+getunicodedecoder
+acharset
+getteraddrefs
+decoder
+nsensuresuccess
+res
+res
+prunichar
+unichars
+print
+unicharlength
+print
+srclen
+plstrlen
+incstring
+klocalbufsize
+prunichar
+localbuf
+klocalbufsize
+prbool
+usedlocalbuf
+srclen
+klocalbufsize
+res
+decoder
+getmaxlength
+incstring
+srclen
+unicharlength
+nsensuresuccess
+res
+res
+unichars
+prunichar
+nsmemory
+alloc
+unicharlength
+prunichar
+nsensuretrue
+unichars
+nserroroutofmemory
+usedlocalbuf
+prfalse
+unichars
+localbuf
+unicharlength
+klocalbufsize
+usedlocalbuf
+prtrue
+res
+decoder
+convert
+incstring
+srclen
+unichars
+unicharlength
+outstring
+assign
+unichars
+unicharlength
+usedlocalbuf
+nsmemory
+free
+unichars
+res
+msgcompheaderinternalcharset
+utf
+nsmsginfilesystemcharset
+nscautostring
+filesystemcharset
+filesystemcharset
+isempty
+nsresult
+rv
+nscomptr
+nsiplatformcharset
+platformcharset
+dogetservice
+nsplatformcharsetcontractid
+rv
+nssucceeded
+rv
+rv
+platformcharset
+getcharset
+kplatformcharsetselfilename
+filesystemcharset
+nsfailed
+rv
+filesystemcharset
+assign
+iso
+filesystemcharset
+get
+nsmsginencodemimepartiistr
+header
+prbool
+structured
+charset
+print
+fieldnamelen
+prbool
+usemime
+prfalse
+usemime
+convertedstr
+nssucceeded
+convertfromunicode
+charset
+nsconvertutftoucs
+header
+convertedstr
+convertedstr
+plstrdup
+header
+encodedstring
+nsnull
+nsresult
+res
+nscomptr
+nsimimeconverter
+converter
+dogetservice
+nsmimeconvertercontractid
+res
+nssucceeded
+res
+nsnull
+converter
+res
+converter
+encodemimepartiistrutf
+header
+structured
+charset
+fieldnamelen
+kmimeencodedwordsize
+encodedstring
+nssucceeded
+res
+encodedstring
+nsnull
+prbool
+nsmsginstatefulcharset
+charset
+nscrt
+strcasecmp
+charset
+iso
+jp
+prbool
+nsmsginmultibytecharset
+charset
+nsresult
+res
+nscomptr
+nsicharsetconvertermanager
+ccm
+dogetservice
+kcharsetconvertermanagercid
+res
+prbool
+result
+prfalse
+nssucceeded
+res
+nsautostring
+charsetdata
+res
+ccm
+getcharsetdata
+charset
+nsliteralstring
+ismultibyte
+get
+charsetdata
+nssucceeded
+res
+result
+charsetdata
+equalsignorecase
+result
+prbool
+nsmsgincheckdataincharsetrange
+charset
+prunichar
+instring
+fallbackcharset
+charset
+charset
+instring
+instring
+prtrue
+nsresult
+res
+prbool
+result
+prtrue
+nscomptr
+nsicharsetconvertermanager
+ccm
+dogetservice
+kcharsetconvertermanagercid
+res
+nssucceeded
+res
+nscomptr
+nsiunicodeencoder
+encoder
+res
+ccm
+getunicodeencoderraw
+charset
+getteraddrefs
+encoder
+nssucceeded
+res
+prunichar
+originalptr
+instring
+print
+originallen
+nscrt
+strlen
+instring
+prunichar
+currentsrcptr
+nsconstcast
+prunichar
+originalptr
+localbuff
+print
+consumedlen
+print
+srclen
+print
+dstlength
+consumedlen
+originallen
+srclen
+originallen
+consumedlen
+dstlength
+res
+encoder
+convert
+currentsrcptr
+srclen
+localbuff
+dstlength
+nserroruencnomapping
+res
+result
+prfalse
+nsfailed
+res
+dstlength
+currentsrcptr
+srclen
+consumedlen
+currentsrcptr
+originalptr
+result
+fallbackcharset
+nsxpidlcstring
+convertedstring
+res
+nsmsginsaveascharset
+text
+plain
+charset
+instring
+gettercopies
+convertedstring
+fallbackcharset
+result
+nssucceeded
+res
+nserroruencnomapping
+res
+result
+nsmsginparsemetacharset
+nsfilespec
+filespec
+charset
+kmaxcsname
+buffer
+charset
+filespec
+isdirectory
+nsassertion
+file
+is
+directory
+charset
+nsinputfilestream
+filestream
+filespec
+filestream
+eof
+filestream
+failed
+filestream
+isopen
+filestream
+readline
+buffer
+buffer
+nscrt
+cr
+buffer
+nscrt
+lf
+buffer
+pruint
+len
+plstrlen
+buffer
+pruint
+len
+buffer
+toupper
+buffer
+plstrstr
+buffer
+head
+plstrstr
+buffer
+meta
+plstrstr
+buffer
+http
+equiv
+plstrstr
+buffer
+content
+type
+plstrstr
+buffer
+charset
+cp
+plstrstr
+plstrstr
+buffer
+charset
+seps
+token
+newstr
+token
+nscrt
+strtok
+cp
+seps
+newstr
+token
+plstrncpy
+charset
+token
+charset
+charset
+charset
+nscrt
+strncasecmp
+utf
+charset
+utf
+nscrt
+strncasecmp
+utf
+charset
+utf
+charset
+charset
+nsresult
+nsmsginconverttoentity
+nsstring
+instring
+nsstring
+outstring
+nsresult
+res
+outstring
+truncate
+nscomptr
+nsientityconverter
+entityconv
+res
+nscomponentmanager
+createinstance
+kentityconvertercid
+nsgetiid
+nsientityconverter
+getteraddrefs
+entityconv
+nssucceeded
+res
+prunichar
+entities
+res
+entityconv
+converttoentities
+instring
+get
+nsientityconverter
+htmllatin
+entities
+nssucceeded
+res
+entities
+outstring
+assign
+entities
+nsmemory
+free
+entities
+res
+nsresult
+nsmsginsaveascharset
+contenttype
+charset
+prunichar
+instring
+outstring
+fallbackcharset
+prbool
+isasciionly
+nsensureargpointer
+contenttype
+nsensureargpointer
+charset
+nsensureargpointer
+instring
+nsensureargpointer
+outstring
+outstring
+nsnull
+nscrt
+isascii
+instring
+isasciionly
+isasciionly
+prtrue
+outstring
+nscrt
+strdup
+nslossyconvertucstoascii
+instring
+get
+nsnull
+outstring
+nsok
+nserroroutofmemory
+isasciionly
+isasciionly
+prfalse
+prbool
+btexthtml
+prfalse
+nsresult
+res
+nscrt
+strcasecmp
+contenttype
+texthtml
+btexthtml
+prtrue
+nscrt
+strcasecmp
+contenttype
+textplain
+nserrorillegalvalue
+nscomptr
+nsicharsetalias
+calias
+dogetservice
+nscharsetaliascontractid
+res
+nsensuresuccess
+res
+res
+nscautostring
+charsetname
+res
+calias
+getpreferred
+nsdependentcstring
+charset
+charsetname
+nsensuresuccess
+res
+res
+nscomptr
+nsisaveascharset
+conv
+docreateinstance
+nssaveascharsetcontractid
+res
+nsensuresuccess
+res
+res
+btexthtml
+res
+conv
+init
+charsetname
+get
+charsetname
+equals
+nsliteralcstring
+iso
+nsisaveascharset
+attrhtmltextdefault
+nsisaveascharset
+attrentityaftercharsetconv
+nsisaveascharset
+attrfallbackdecimalncr
+nsientityconverter
+html
+res
+conv
+init
+charsetname
+get
+nsisaveascharset
+attrfallbackquestionmark
+nsisaveascharset
+attrentityaftercharsetconv
+nsientityconverter
+transliterate
+nsensuresuccess
+res
+res
+prunichar
+input
+instring
+nsautostring
+mapped
+charsetname
+equals
+nsliteralcstring
+iso
+jp
+print
+ssendhankakukana
+ssendhankakukana
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+res
+nsensuresuccess
+res
+res
+prbool
+sendhankaku
+nsfailed
+prefbranch
+getboolpref
+mailnews
+sendhankakukana
+sendhankaku
+ssendhankakukana
+ssendhankakukana
+sendhankaku
+ssendhankakukana
+nscomptr
+nsitexttransform
+texttransform
+docreateinstance
+nshankakutozenkakucontractid
+res
+nssucceeded
+res
+res
+texttransform
+change
+instring
+nscrt
+strlen
+instring
+mapped
+nssucceeded
+res
+input
+mapped
+get
+res
+conv
+convert
+input
+outstring
+nserroruencnomapping
+res
+btexthtml
+fallbackcharset
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+res
+nsensuresuccess
+res
+res
+nscautostring
+prefstring
+intl
+fallbackcharsetlist
+prefstring
+append
+charset
+nsxpidlcstring
+fallbacklist
+res
+prefbranch
+getcharpref
+prefstring
+get
+gettercopies
+fallbacklist
+nsfailed
+res
+fallbacklist
+isempty
+nserroruencnomapping
+res
+conv
+init
+fallbacklist
+get
+nsisaveascharset
+attrfallbackquestionmark
+nsisaveascharset
+attrentityaftercharsetconv
+nsisaveascharset
+attrcharsetfallback
+nsientityconverter
+transliterate
+nsensuresuccess
+res
+res
+prfreeif
+outstring
+res
+conv
+convert
+input
+outstring
+nsensuresuccess
+res
+res
+nsfailed
+conv
+getcharset
+fallbackcharset
+fallbackcharset
+nsnull
+isasciionly
+btexthtml
+outstring
+nsmsginstatefulcharset
+charsetname
+get
+isasciionly
+nscrt
+isascii
+outstring
+res
+nsresult
+nsmsginformatnntpxpatinnonrfcformat
+nscstring
+acharset
+nsstring
+instring
+nscstring
+outstring
+outstring
+assignwithconversion
+instring
+nsok
+nsmsgingetacceptlanguage
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+prefbranch
+nscomptr
+nsipreflocalizedstring
+prefstring
+prefbranch
+getcomplexvalue
+intl
+acceptlanguages
+nsgetiid
+nsipreflocalizedstring
+getteraddrefs
+prefstring
+prefstring
+nsxpidlstring
+ucsval
+prefstring
+tostring
+gettercopies
+ucsval
+ucsval
+isempty
+nscautostring
+acceptlang
+acceptlang
+assign
+nslossyconvertucstoascii
+ucsval
+acceptlang
+get
+en
+nsmsggetnativepathstring
+apath
+nsstring
+aresult
+apath
+aresult
+truncate
+nscrt
+isascii
+apath
+aresult
+assignwithconversion
+apath
+converttounicode
+nsmsginfilesystemcharset
+apath
+aresult nsresult
\ No newline at end of file
@@ -0,0 +1,1302 @@
+msgcore
+nsmsgidentity
+nsiprefservice
+nsxpidlstring
+nsreadableutils
+nsmsgcompcid
+nsirdfservice
+nsirdfresource
+nsrdfcid
+nsmsgfolderflags
+nsimsgfolder
+nsimsgincomingserver
+nsimsgaccountmanager
+nsmsgbasecid
+prprf
+nsisupportsobsolete
+nsisupportsprimitives
+nsdefinecid
+krdfservicecid
+nsrdfservicecid
+nsimplthreadsafeisupports
+nsmsgidentity
+nsimsgidentity
+nsmsgidentity
+nsmsgidentity
+msignature
+mvcard
+midentitykey
+mprefbranch
+nsmsgidentity
+nsmsgidentity
+prfreeif
+midentitykey
+nsifrelease
+mprefbranch
+nsresult
+nsmsgidentity
+getprefservice
+mprefbranch
+nsok
+callgetservice
+nsprefservicecontractid
+mprefbranch
+nsmsgidentity
+getprefname
+identitykey
+prefname
+prsmprintf
+mail
+identity
+identitykey
+prefname
+nsmsgidentity
+getdefaultprefname
+fullprefname
+prsmprintf
+mail
+identity
+fullprefname
+nsresult
+nsmsgidentity
+getboolpref
+prefname
+prbool
+val
+nsresult
+rv
+getprefservice
+nsfailed
+rv
+rv
+fullprefname
+getprefname
+midentitykey
+prefname
+rv
+mprefbranch
+getboolpref
+fullprefname
+val
+prfree
+fullprefname
+nsfailed
+rv
+rv
+getdefaultboolpref
+prefname
+val
+rv
+nsresult
+nsmsgidentity
+getdefaultboolpref
+prefname
+prbool
+val
+nsresult
+rv
+getprefservice
+nsfailed
+rv
+rv
+fullprefname
+getdefaultprefname
+prefname
+rv
+mprefbranch
+getboolpref
+fullprefname
+val
+prfree
+fullprefname
+nsfailed
+rv
+val
+prfalse
+rv
+nsok
+rv
+nsresult
+nsmsgidentity
+setboolpref
+prefname
+prbool
+val
+nsresult
+rv
+getprefservice
+nsfailed
+rv
+rv
+prefname
+getprefname
+midentitykey
+prefname
+rv
+mprefbranch
+setboolpref
+prefname
+val
+prfree
+prefname
+rv
+nsresult
+nsmsgidentity
+getunicharpref
+prefname
+prunichar
+val
+nsresult
+rv
+getprefservice
+nsfailed
+rv
+rv
+fullprefname
+getprefname
+midentitykey
+prefname
+nscomptr
+nsisupportsstring
+supportsstring
+rv
+mprefbranch
+getcomplexvalue
+fullprefname
+nsgetiid
+nsisupportsstring
+getteraddrefs
+supportsstring
+prfree
+fullprefname
+nsfailed
+rv
+rv
+getdefaultunicharpref
+prefname
+val
+supportsstring
+rv
+supportsstring
+tostring
+val
+rv
+nsresult
+nsmsgidentity
+getcharpref
+prefname
+val
+nsresult
+rv
+getprefservice
+nsfailed
+rv
+rv
+fullprefname
+getprefname
+midentitykey
+prefname
+rv
+mprefbranch
+getcharpref
+fullprefname
+val
+prfree
+fullprefname
+nsfailed
+rv
+rv
+getdefaultcharpref
+prefname
+val
+rv
+nsresult
+nsmsgidentity
+getdefaultunicharpref
+prefname
+prunichar
+val
+nsresult
+rv
+getprefservice
+nsfailed
+rv
+rv
+fullprefname
+getdefaultprefname
+prefname
+nscomptr
+nsisupportsstring
+supportsstring
+rv
+mprefbranch
+getcomplexvalue
+fullprefname
+nsgetiid
+nsisupportsstring
+getteraddrefs
+supportsstring
+prfree
+fullprefname
+nsfailed
+rv
+supportsstring
+val
+nsnull
+nsok
+supportsstring
+tostring
+val
+nsresult
+nsmsgidentity
+getdefaultcharpref
+prefname
+val
+nsresult
+rv
+getprefservice
+nsfailed
+rv
+rv
+fullprefname
+getdefaultprefname
+prefname
+rv
+mprefbranch
+getcharpref
+fullprefname
+val
+prfree
+fullprefname
+nsfailed
+rv
+val
+nsnull
+rv
+nsok
+rv
+nsresult
+nsmsgidentity
+setunicharpref
+prefname
+prunichar
+val
+nsresult
+rv
+getprefservice
+nsfailed
+rv
+rv
+rv
+nsok
+prefname
+getprefname
+midentitykey
+prefname
+val
+nscomptr
+nsisupportsstring
+supportsstring
+docreateinstance
+nssupportsstringcontractid
+rv
+supportsstring
+supportsstring
+setdata
+nsdependentstring
+val
+rv
+mprefbranch
+setcomplexvalue
+prefname
+nsgetiid
+nsisupportsstring
+supportsstring
+mprefbranch
+clearuserpref
+prefname
+prfree
+prefname
+rv
+nsresult
+nsmsgidentity
+setcharpref
+prefname
+val
+nsresult
+rv
+getprefservice
+nsfailed
+rv
+rv
+rv
+nsok
+prefname
+getprefname
+midentitykey
+prefname
+val
+rv
+mprefbranch
+setcharpref
+prefname
+val
+mprefbranch
+clearuserpref
+prefname
+prfree
+prefname
+rv
+nsresult
+nsmsgidentity
+getintpref
+prefname
+print
+val
+nsresult
+rv
+getprefservice
+nsfailed
+rv
+rv
+fullprefname
+getprefname
+midentitykey
+prefname
+rv
+mprefbranch
+getintpref
+fullprefname
+val
+prfree
+fullprefname
+nsfailed
+rv
+rv
+getdefaultintpref
+prefname
+val
+rv
+nsresult
+nsmsgidentity
+getdefaultintpref
+prefname
+print
+val
+nsresult
+rv
+getprefservice
+nsfailed
+rv
+rv
+fullprefname
+getdefaultprefname
+prefname
+rv
+mprefbranch
+getintpref
+fullprefname
+val
+prfree
+fullprefname
+nsfailed
+rv
+val
+rv
+nsok
+rv
+nsresult
+nsmsgidentity
+setintpref
+prefname
+print
+val
+nsresult
+rv
+getprefservice
+nsfailed
+rv
+rv
+prefname
+getprefname
+midentitykey
+prefname
+rv
+mprefbranch
+setintpref
+prefname
+val
+prfree
+prefname
+rv
+nsresult
+nsmsgidentity
+setkey
+identitykey
+prfreeif
+midentitykey
+midentitykey
+plstrdup
+identitykey
+nsok
+nsresult
+nsmsgidentity
+getidentityname
+prunichar
+idname
+idname
+nserrornullpointer
+idname
+nsnull
+nsresult
+rv
+getunicharpref
+identityname
+idname
+nsfailed
+rv
+rv
+idname
+nsxpidlstring
+fullname
+rv
+getfullname
+gettercopies
+fullname
+nsfailed
+rv
+rv
+nsxpidlcstring
+email
+rv
+getemail
+gettercopies
+email
+nsfailed
+rv
+rv
+nsautostring
+str
+str
+prunichar
+fullname
+str
+append
+nsliteralstring
+str
+appendwithconversion
+email
+str
+append
+nsliteralstring
+idname
+tonewunicode
+str
+rv
+nsok
+rv
+nsresult
+nsmsgidentity
+setidentityname
+prunichar
+idname
+setunicharpref
+identityname
+idname
+nsimethodimp
+nsmsgidentity
+tostring
+prunichar
+aresult
+nsstring
+idname
+nsliteralstring
+nsimsgidentity
+idname
+appendwithconversion
+midentitykey
+idname
+append
+nsliteralstring
+aresult
+tonewunicode
+idname
+nsok
+nsimethodimp
+nsmsgidentity
+getsignature
+nsilocalfile
+sig
+nsresult
+rv
+getprefservice
+nsfailed
+rv
+rv
+prefname
+getprefname
+midentitykey
+sigfile
+rv
+mprefbranch
+getcomplexvalue
+prefname
+nsgetiid
+nsilocalfile
+sig
+nsfailed
+rv
+sig
+nsnull
+nsok
+nsimethodimp
+nsmsgidentity
+setsignature
+nsilocalfile
+sig
+nsresult
+rv
+getprefservice
+nsfailed
+rv
+rv
+rv
+nsok
+prefname
+getprefname
+midentitykey
+sigfile
+sig
+rv
+mprefbranch
+setcomplexvalue
+prefname
+nsgetiid
+nsilocalfile
+sig
+prfree
+prefname
+rv
+nsok
+nsimethodimp
+nsmsgidentity
+clearallvalues
+nsresult
+rv
+getprefservice
+nsensuresuccess
+rv
+rv
+nscautostring
+rootpref
+mail
+identity
+rootpref
+midentitykey
+pruint
+childcount
+childarray
+rv
+mprefbranch
+getchildlist
+rootpref
+get
+childcount
+childarray
+nsensuresuccess
+rv
+rv
+pruint
+childcount
+mprefbranch
+clearuserpref
+childarray
+nsfreexpcomallocatedpointerarray
+childcount
+childarray
+nsok
+nsimplgetset
+nsmsgidentity
+vcard
+nsimsgvcard
+mvcard
+nsimplgetterstr
+nsmsgidentity
+getkey
+midentitykey
+nsimplidprefstr
+smtpserverkey
+smtpserver
+nsimplidprefwstr
+fullname
+fullname
+nsimplidprefstr
+email
+useremail
+nsimplidprefstr
+replyto
+replyto
+nsimplidprefwstr
+organization
+organization
+nsimplidprefbool
+composehtml
+composehtml
+nsimplidprefbool
+attachvcard
+attachvcard
+nsimplidprefbool
+attachsignature
+attachsignature
+nsimplidprefint
+signaturedate
+sigdate
+nsimplidprefbool
+dofcc
+fcc
+nsimplfolderprefstr
+fccfolder
+fccfolder
+nsimplidprefstr
+fccfolderpickermode
+fccfolderpickermode
+nsimplidprefstr
+draftsfolderpickermode
+draftsfolderpickermode
+nsimplidprefstr
+tmplfolderpickermode
+tmplfolderpickermode
+nsimplidprefbool
+bccself
+bccself
+nsimplidprefbool
+bccothers
+bccother
+nsimplidprefstr
+bcclist
+bccotherlist
+nsimethodimp
+nsmsgidentity
+getdobcc
+prbool
+avalue
+nsresult
+rv
+getprefservice
+nsensuresuccess
+rv
+rv
+prefname
+getprefname
+midentitykey
+dobcc
+rv
+mprefbranch
+getboolpref
+prefname
+avalue
+prfree
+prefname
+nssucceeded
+rv
+getboolattribute
+dobcc
+avalue
+prbool
+bccself
+prfalse
+rv
+getbccself
+bccself
+nsensuresuccess
+rv
+rv
+prbool
+bccothers
+prfalse
+rv
+getbccothers
+bccothers
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+others
+rv
+getbcclist
+gettercopies
+others
+nsensuresuccess
+rv
+rv
+avalue
+bccself
+bccothers
+others
+isempty
+setdobcc
+avalue
+nsimethodimp
+nsmsgidentity
+setdobcc
+prbool
+avalue
+setboolattribute
+dobcc
+avalue
+nsimethodimp
+nsmsgidentity
+getdobcclist
+avalue
+nsresult
+rv
+getprefservice
+nsensuresuccess
+rv
+rv
+prefname
+getprefname
+midentitykey
+dobcclist
+rv
+mprefbranch
+getcharpref
+prefname
+avalue
+prfree
+prefname
+nssucceeded
+rv
+getcharattribute
+dobcclist
+avalue
+nscautostring
+result
+prbool
+bccself
+prfalse
+rv
+getbccself
+bccself
+nsensuresuccess
+rv
+rv
+bccself
+nsxpidlcstring
+email
+getemail
+gettercopies
+email
+result
+email
+prbool
+bccothers
+prfalse
+rv
+getbccothers
+bccothers
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+others
+rv
+getbcclist
+gettercopies
+others
+nsensuresuccess
+rv
+rv
+bccothers
+others
+isempty
+bccself
+result
+result
+others
+avalue
+tonewcstring
+result
+setdobcclist
+avalue
+nsimethodimp
+nsmsgidentity
+setdobcclist
+avalue
+setcharattribute
+dobcclist
+avalue
+nsimplfolderprefstr
+draftfolder
+draftfolder
+nsimplfolderprefstr
+stationeryfolder
+stationeryfolder
+nsimplidprefbool
+showsavemsgdlg
+showsavemsgdlg
+nsimplidprefstr
+directoryserver
+directoryserver
+nsimplidprefbool
+overrideglobalpref
+overrideglobalpref
+nsimplidprefbool
+valid
+valid
+nsresult
+nsmsgidentity
+getfolderpref
+prefname
+retval
+prbool
+musthavedefault
+nsresult
+rv
+getcharpref
+prefname
+retval
+musthavedefault
+rv
+nsfailed
+rv
+retval
+strlen
+retval
+prfreeif
+retval
+rv
+getdefaultcharpref
+prefname
+retval
+nssucceeded
+rv
+retval
+rv
+setfolderpref
+prefname
+retval
+rv
+nsresult
+nsmsgidentity
+setfolderpref
+prefname
+value
+nsxpidlcstring
+oldpref
+nsresult
+rv
+nscomptr
+nsirdfresource
+res
+nscomptr
+nsimsgfolder
+folder
+pruint
+folderflag
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+krdfservicecid
+rv
+nscrt
+strcmp
+prefname
+fccfolder
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupportsarray
+servers
+rv
+accountmanager
+getserversforidentity
+getteraddrefs
+servers
+nsensuresuccess
+rv
+rv
+pruint
+cnt
+servers
+count
+cnt
+cnt
+nscomptr
+nsisupports
+supports
+getteraddrefs
+servers
+elementat
+nscomptr
+nsimsgincomingserver
+server
+doqueryinterface
+supports
+rv
+nssucceeded
+rv
+server
+cleartemporaryreturnreceiptsfilter
+folderflag
+msgfolderflagsentmail
+nscrt
+strcmp
+prefname
+draftfolder
+folderflag
+msgfolderflagdrafts
+nscrt
+strcmp
+prefname
+stationeryfolder
+folderflag
+msgfolderflagtemplates
+nserrorfailure
+rv
+getfolderpref
+prefname
+gettercopies
+oldpref
+prfalse
+nssucceeded
+rv
+oldpref
+rv
+rdf
+getresource
+oldpref
+getteraddrefs
+res
+nssucceeded
+rv
+res
+folder
+doqueryinterface
+res
+rv
+nssucceeded
+rv
+rv
+folder
+clearflag
+folderflag
+rv
+setcharpref
+prefname
+value
+nssucceeded
+rv
+rv
+rdf
+getresource
+nsdependentcstring
+value
+getteraddrefs
+res
+nssucceeded
+rv
+res
+folder
+doqueryinterface
+res
+rv
+nssucceeded
+rv
+rv
+folder
+setflag
+folderflag
+rv
+nsimethodimp
+nsmsgidentity
+setunicharattribute
+aname
+prunichar
+val
+setunicharpref
+aname
+val
+nsimethodimp
+nsmsgidentity
+getunicharattribute
+aname
+prunichar
+val
+getunicharpref
+aname
+val
+nsimethodimp
+nsmsgidentity
+setcharattribute
+aname
+val
+setcharpref
+aname
+val
+nsimethodimp
+nsmsgidentity
+getcharattribute
+aname
+val
+getcharpref
+aname
+val
+nsimethodimp
+nsmsgidentity
+setboolattribute
+aname
+prbool
+val
+setboolpref
+aname
+val
+nsimethodimp
+nsmsgidentity
+getboolattribute
+aname
+prbool
+val
+getboolpref
+aname
+val
+nsimethodimp
+nsmsgidentity
+setintattribute
+aname
+print
+val
+setintpref
+aname
+val
+nsimethodimp
+nsmsgidentity
+getintattribute
+aname
+print
+val
+getintpref
+aname
+val
+define
+copyidentityfilevalue
+srcid
+macrogetter
+macrosetter
+nsresult
+macrorv
+nscomptr
+nsilocalfile
+macrospec
+macrorv
+srcid
+macrogetter
+getteraddrefs
+macrospec
+nsfailed
+macrorv
+macrorv
+macrosetter
+macrospec
+define
+copyidentityintvalue
+srcid
+macrogetter
+macrosetter
+nsresult
+macrorv
+print
+macrooldint
+macrorv
+srcid
+macrogetter
+macrooldint
+nsfailed
+macrorv
+macrorv
+macrosetter
+macrooldint
+define
+copyidentityboolvalue
+srcid
+macrogetter
+macrosetter
+nsresult
+macrorv
+prbool
+macrooldbool
+macrorv
+srcid
+macrogetter
+macrooldbool
+nsfailed
+macrorv
+macrorv
+macrosetter
+macrooldbool
+define
+copyidentitystrvalue
+srcid
+macrogetter
+macrosetter
+nsxpidlcstring
+macrooldstr
+nsresult
+macrorv
+macrorv
+srcid
+macrogetter
+gettercopies
+macrooldstr
+nsfailed
+macrorv
+macrorv
+macrooldstr
+macrosetter
+macrosetter
+macrooldstr
+prunichar
+unicharemptystring
+prunichar
+define
+copyidentitywstrvalue
+srcid
+macrogetter
+macrosetter
+nsxpidlstring
+macrooldstr
+nsresult
+macrorv
+macrorv
+srcid
+macrogetter
+gettercopies
+macrooldstr
+nsfailed
+macrorv
+macrorv
+macrooldstr
+macrosetter
+unicharemptystring
+macrosetter
+macrooldstr
+nsimethodimp
+nsmsgidentity
+copy
+nsimsgidentity
+identity
+copyidentityboolvalue
+identity
+getcomposehtml
+setcomposehtml
+copyidentitystrvalue
+identity
+getemail
+setemail
+copyidentitystrvalue
+identity
+getreplyto
+setreplyto
+copyidentitywstrvalue
+identity
+getfullname
+setfullname
+copyidentitywstrvalue
+identity
+getorganization
+setorganization
+copyidentitystrvalue
+identity
+getdraftfolder
+setdraftfolder
+copyidentitystrvalue
+identity
+getstationeryfolder
+setstationeryfolder
+copyidentityboolvalue
+identity
+getattachsignature
+setattachsignature
+copyidentityfilevalue
+identity
+getsignature
+setsignature
+copyidentityintvalue
+identity
+getsignaturedate
+setsignaturedate
+nsok
+nsimethodimp
+nsmsgidentity
+getrequestreturnreceipt
+prbool
+aval
+nsensureargpointer
+aval
+prbool
+usecustomprefs
+prfalse
+nsresult
+rv
+getboolattribute
+usecustomprefs
+usecustomprefs
+nsensuresuccess
+rv
+rv
+usecustomprefs
+getboolattribute
+requestreturnreceipton
+aval
+rv
+getprefservice
+nsensuresuccess
+rv
+rv
+mprefbranch
+getboolpref
+mail
+receipt
+requestreturnreceipton
+aval
+nsimethodimp
+nsmsgidentity
+getreceiptheadertype
+print
+atype
+nsensureargpointer
+atype
+prbool
+usecustomprefs
+prfalse
+nsresult
+rv
+getboolattribute
+usecustomprefs
+usecustomprefs
+nsensuresuccess
+rv
+rv
+usecustomprefs
+getintattribute
+requestreceiptheadertype
+atype
+rv
+getprefservice
+nsensuresuccess
+rv
+rv
+mprefbranch
+getintpref
+mail
+receipt
+requestheadertype
+atype
\ No newline at end of file
@@ -0,0 +1,48 @@
+msgcore
+nsmsgkeyarray
+nsmsgviewindex
+nsmsgkeyarray
+findindex
+nsmsgkey
+key
+pruint
+startindex
+pruint
+startindex
+getsize
+nsmsgkey
+mpdata
+key
+nsmsgviewindexnone
+nsmsgkeyarray
+setarray
+nsmsgkey
+pdata
+numelements
+numallocated
+nsassertion
+pdata
+storage
+is
+nsassertion
+numelements
+negative
+number
+of
+elements
+nsassertion
+numallocated
+numelements
+num
+elements
+more
+than
+array
+size
+mpdata
+mpdata
+pdata
+mnmaxsize
+numallocated
+mnsize
+numelements
\ No newline at end of file
@@ -0,0 +1,512 @@
+msgcore
+prlog
+prmem
+nsmsglinebuffer
+nsiinputstream
+mozdeclctorcounter
+nsbytearray
+nsbytearray
+nsbytearray
+mozcountctor
+nsbytearray
+mbuffer
+mbuffersize
+mbufferpos
+nsbytearray
+nsbytearray
+mozcountdtor
+nsbytearray
+prfreeif
+mbuffer
+nsresult
+nsbytearray
+growbuffer
+pruint
+desiredsize
+pruint
+quantum
+mbuffersize
+desiredsize
+newbuf
+pruint
+increment
+desiredsize
+mbuffersize
+increment
+quantum
+increment
+quantum
+newbuf
+mbuffer
+prrealloc
+mbuffer
+mbuffersize
+increment
+prmalloc
+mbuffersize
+increment
+newbuf
+nserroroutofmemory
+mbuffer
+newbuf
+mbuffersize
+increment
+nsresult
+nsbytearray
+appendstring
+pruint
+strlength
+plstrlen
+appendbuffer
+strlength
+nsresult
+nsbytearray
+appendbuffer
+buffer
+pruint
+length
+nsresult
+ret
+nsok
+mbufferpos
+length
+mbuffersize
+ret
+growbuffer
+mbufferpos
+length
+ret
+nsok
+memcpy
+mbuffer
+mbufferpos
+buffer
+length
+mbufferpos
+length
+ret
+mozdeclctorcounter
+nsmsglinebuffer
+nsmsglinebuffer
+nsmsglinebuffer
+nsmsglinebufferhandler
+handler
+prbool
+convertnewlinesp
+mozcountctor
+nsmsglinebuffer
+mhandler
+handler
+mconvertnewlinesp
+convertnewlinesp
+mlookingforcrlf
+prtrue
+nsmsglinebuffer
+nsmsglinebuffer
+mozcountdtor
+nsmsglinebuffer
+nsmsglinebuffer
+setlookingforcrlf
+prbool
+mlookingforcrlf
+print
+nsmsglinebuffer
+bufferinput
+netbuffer
+print
+netbuffersize
+status
+mbufferpos
+mbuffer
+mbuffer
+mbufferpos
+nscrt
+cr
+netbuffersize
+netbuffer
+nscrt
+lf
+prassert
+mbuffersize
+mbufferpos
+mbuffersize
+mbufferpos
+status
+convertandsendbuffer
+status
+status
+mbufferpos
+netbuffersize
+netbufferend
+netbuffer
+netbuffersize
+newline
+netbuffer
+netbufferend
+mlookingforcrlf
+nscrt
+cr
+nscrt
+lf
+newline
+newline
+nscrt
+cr
+netbufferend
+newline
+newline
+nscrt
+lf
+newline
+newline
+nscrt
+cr
+nscrt
+lf
+newline
+newline
+end
+newline
+newline
+netbufferend
+pruint
+desiredsize
+end
+netbuffer
+mbufferpos
+desiredsize
+mbuffersize
+status
+growbuffer
+desiredsize
+status
+status
+memcpy
+mbuffer
+mbufferpos
+netbuffer
+end
+netbuffer
+mbufferpos
+end
+netbuffer
+newline
+status
+convertandsendbuffer
+status
+status
+netbuffersize
+newline
+netbuffer
+netbuffer
+newline
+mbufferpos
+print
+nsmsglinebuffer
+handleline
+line
+pruint
+linelength
+nsassertion
+prfalse
+must
+override
+method
+you
+don
+provide
+handler
+print
+nsmsglinebuffer
+convertandsendbuffer
+buf
+mbuffer
+print
+length
+mbufferpos
+newline
+prassert
+buf
+length
+buf
+length
+newline
+buf
+length
+prassert
+newline
+nscrt
+cr
+newline
+nscrt
+lf
+newline
+nscrt
+cr
+newline
+nscrt
+lf
+mconvertnewlinesp
+msglinebreaklen
+newline
+buf
+newline
+nscrt
+cr
+newline
+nscrt
+lf
+buf
+length
+msglinebreak
+length
+newline
+buf
+newline
+msglinebreak
+buf
+length
+msglinebreak
+newline
+buf
+newline
+nscrt
+cr
+newline
+buf
+newline
+nscrt
+lf
+length
+buf
+length
+msglinebreak
+buf
+length
+msglinebreak
+endif
+mhandler
+mhandler
+handleline
+buf
+length
+handleline
+buf
+length
+print
+nsmsglinebuffer
+flushlastline
+buf
+mbuffer
+mbufferpos
+print
+length
+mbufferpos
+length
+mhandler
+mhandler
+handleline
+buf
+length
+handleline
+buf
+length
+nsmsglinestreambuffer
+nsmsglinestreambuffer
+pruint
+abuffersize
+prbool
+aallocatenewlines
+prbool
+aeatcrlfs
+alinetoken
+meatcrlfs
+aeatcrlfs
+mallocatenewlines
+aallocatenewlines
+mlinetoken
+alinetoken
+nsprecondition
+abuffersize
+invalid
+buffer
+size
+mdatabuffer
+nsnull
+mstartpos
+mnumbytesinbuffer
+abuffersize
+mdatabuffer
+prcalloc
+abuffersize
+mdatabuffersize
+abuffersize
+nsmsglinestreambuffer
+nsmsglinestreambuffer
+prfreeif
+mdatabuffer
+nsresult
+nsmsglinestreambuffer
+growbuffer
+print
+desiredsize
+mdatabuffer
+prrealloc
+mdatabuffer
+desiredsize
+mdatabuffer
+nserroroutofmemory
+mdatabuffersize
+desiredsize
+nsok
+nsmsglinestreambuffer
+readnextline
+nsiinputstream
+ainputstream
+pruint
+anumbytesinline
+prbool
+apauseformoredata
+nsprecondition
+mdatabuffer
+mdatabuffersize
+invalid
+input
+arguments
+read
+next
+line
+from
+input
+apauseformoredata
+prfalse
+anumbytesinline
+endofline
+nsnull
+startofline
+mdatabuffer
+mstartpos
+mnumbytesinbuffer
+endofline
+plstrchr
+startofline
+mlinetoken
+endofline
+ainputstream
+pruint
+numbytesinstream
+pruint
+numbytescopied
+ainputstream
+available
+numbytesinstream
+pruint
+numfreebytesinbuffer
+mdatabuffersize
+mstartpos
+mnumbytesinbuffer
+numbytesinstream
+numfreebytesinbuffer
+mnumbytesinbuffer
+mstartpos
+memmove
+mdatabuffer
+startofline
+mnumbytesinbuffer
+mdatabuffer
+mnumbytesinbuffer
+mstartpos
+startofline
+mdatabuffer
+numfreebytesinbuffer
+mdatabuffersize
+mnumbytesinbuffer
+mstartpos
+print
+growby
+numbytesinstream
+numfreebytesinbuffer
+nsresult
+rv
+growbuffer
+mdatabuffersize
+growby
+nsfailed
+rv
+nsnull
+startofline
+mdatabuffer
+numfreebytesinbuffer
+growby
+nsassertion
+mstartpos
+mstartpos
+should
+be
+pruint
+numbytestocopy
+prmin
+numfreebytesinbuffer
+numbytesinstream
+numbytestocopy
+ainputstream
+read
+startofline
+mnumbytesinbuffer
+numbytestocopy
+numbytescopied
+pruint
+mnumbytesinbuffer
+numbytescopied
+startofline
+startofline
+mnumbytesinbuffer
+numbytescopied
+mdatabuffer
+mstartpos
+mnumbytesinbuffer
+mnumbytesinbuffer
+apauseformoredata
+prtrue
+nsnull
+endofline
+plstrchr
+startofline
+mlinetoken
+endofline
+meatcrlfs
+endofline
+anumbytesinline
+endofline
+startofline
+meatcrlfs
+anumbytesinline
+startofline
+anumbytesinline
+anumbytesinline
+newline
+prcalloc
+anumbytesinline
+newline
+anumbytesinline
+apauseformoredata
+prtrue
+nsnull
+memcpy
+newline
+startofline
+anumbytesinline
+meatcrlfs
+endofline
+mnumbytesinbuffer
+endofline
+startofline
+mnumbytesinbuffer
+mstartpos
+endofline
+mdatabuffer
+mstartpos
+newline
+apauseformoredata
+prtrue
+nsnull nsresult
\ No newline at end of file
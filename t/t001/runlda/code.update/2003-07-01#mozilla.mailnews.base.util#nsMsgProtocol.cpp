@@ -0,0 +1,2040 @@
+msgcore
+nsreadableutils
+nsmsgprotocol
+nsimsgmailnewsurl
+nsistreamtransportservice
+nsisockettransportservice
+nsisockettransport
+nsxpidlstring
+nsspecialsystemdirectory
+nsiloadgroup
+nsiioservice
+nsnetutil
+nsifileurl
+nsfilestream
+nsidnsservice
+nsimsgwindow
+nsimsgstatusfeedback
+nsiwebprogresslistener
+nsipipe
+nsiprompt
+prprf
+nsistringbundle
+nsiprotocolproxyservice
+nsiproxyinfo
+nseventqueueutils
+nsdefinecid
+ksockettransportservicecid
+nssockettransportservicecid
+nsdefinecid
+kstreamtransportservicecid
+nsstreamtransportservicecid
+nsdefinecid
+kioservicecid
+nsioservicecid
+nsimplthreadsafeaddref
+nsmsgprotocol
+nsimplthreadsaferelease
+nsmsgprotocol
+nsinterfacemapbegin
+nsmsgprotocol
+nsinterfacemapentryambiguous
+nsisupports
+nsichannel
+nsinterfacemapentry
+nsistreamlistener
+nsinterfacemapentry
+nsirequestobserver
+nsinterfacemapentry
+nsichannel
+nsinterfacemapentry
+nsirequest
+nsinterfacemapentry
+nsitransporteventsink
+nsinterfacemapendthreadsafe
+prunichar
+getstringbyid
+print
+stringid
+prunichar
+formatstringwithhostnamebyid
+print
+stringid
+nsimsgmailnewsurl
+msguri
+nsmsgprotocol
+nsmsgprotocol
+nsiuri
+aurl
+mflags
+mreadcount
+mloadflags
+msocketisopen
+prfalse
+mtempmsgfilespec
+nsspecialsystemdirectory
+nsspecialsystemdirectory
+ostemporarydirectory
+mtempmsgfilespec
+tempmessage
+eml
+msuppresslistenernotifications
+prfalse
+initfromuri
+aurl
+nsresult
+nsmsgprotocol
+initfromuri
+nsiuri
+aurl
+murl
+aurl
+nscomptr
+nsimsgmailnewsurl
+mailurl
+doqueryinterface
+aurl
+mailurl
+mailurl
+getloadgroup
+getteraddrefs
+mloadgroup
+nscomptr
+nsimsgstatusfeedback
+statusfeedback
+mailurl
+getstatusfeedback
+getteraddrefs
+statusfeedback
+mprogresseventsink
+doqueryinterface
+statusfeedback
+nsok
+nsmsgprotocol
+nsmsgprotocol
+nsresult
+nsmsgprotocol
+opennetworksocketwithinfo
+ahostname
+print
+agetport
+connectiontype
+nsiproxyinfo
+aproxyinfo
+nsiinterfacerequestor
+callbacks
+nsensurearg
+ahostname
+nsresult
+rv
+nsok
+nscomptr
+nsisockettransportservice
+socketservice
+dogetservice
+ksockettransportservicecid
+nsensuretrue
+socketservice
+nserrorfailure
+mreadcount
+nscomptr
+nsisockettransport
+strans
+rv
+socketservice
+createtransport
+connectiontype
+connectiontype
+nsnull
+nsdependentcstring
+ahostname
+agetport
+aproxyinfo
+getteraddrefs
+strans
+nsfailed
+rv
+rv
+strans
+setsecuritycallbacks
+callbacks
+nscomptr
+nsieventqueue
+eventq
+nsgetcurrenteventq
+getteraddrefs
+eventq
+eventq
+strans
+seteventsink
+eventq
+msocketisopen
+prfalse
+mtransport
+strans
+setuptransportstate
+nsresult
+nsmsgprotocol
+opennetworksocket
+nsiuri
+aurl
+connectiontype
+nsiinterfacerequestor
+callbacks
+nsensurearg
+aurl
+nscautostring
+hostname
+print
+port
+aurl
+getport
+port
+aurl
+getasciihost
+hostname
+nscomptr
+nsiproxyinfo
+proxyinfo
+nscomptr
+nsiprotocolproxyservice
+pps
+dogetservice
+network
+protocol
+proxy
+service
+nsassertion
+pps
+couldn
+get
+the
+protocol
+proxy
+service
+pps
+nsresult
+rv
+nsok
+nscomptr
+nsiuri
+proxyuri
+aurl
+prbool
+issmtp
+prfalse
+nssucceeded
+aurl
+schemeis
+smtp
+issmtp
+issmtp
+nscautostring
+spec
+rv
+aurl
+getspec
+spec
+nssucceeded
+rv
+proxyuri
+docreateinstance
+nsstandardurlcontractid
+rv
+nssucceeded
+rv
+rv
+proxyuri
+setspec
+spec
+nssucceeded
+rv
+rv
+proxyuri
+setscheme
+nsliteralcstring
+mailto
+nssucceeded
+rv
+rv
+pps
+examineforproxy
+proxyuri
+getteraddrefs
+proxyinfo
+nsassertion
+nssucceeded
+rv
+couldn
+successfully
+call
+examineforproxy
+nsfailed
+rv
+proxyinfo
+nsnull
+opennetworksocketwithinfo
+hostname
+get
+port
+connectiontype
+proxyinfo
+callbacks
+nsresult
+nsmsgprotocol
+getfilefromurl
+nsiuri
+aurl
+nsifile
+aresult
+nsensureargpointer
+aurl
+nsensureargpointer
+aresult
+nscautostring
+urlspec
+aurl
+getpath
+urlspec
+urlspec
+insert
+nsliteralcstring
+file
+nsresult
+rv
+nscomptr
+nsiuri
+uri
+nsfailed
+rv
+nsnewuri
+getteraddrefs
+uri
+urlspec
+get
+rv
+nscomptr
+nsifileurl
+fileurl
+doqueryinterface
+uri
+fileurl
+nserrorfailure
+fileurl
+getfile
+aresult
+nsresult
+nsmsgprotocol
+openfilesocket
+nsiuri
+aurl
+pruint
+astartposition
+print
+areadcount
+nsresult
+rv
+nsok
+mreadcount
+areadcount
+nscomptr
+nsifile
+file
+rv
+getfilefromurl
+aurl
+getteraddrefs
+file
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiinputstream
+stream
+rv
+nsnewlocalfileinputstream
+getteraddrefs
+stream
+file
+nsfailed
+rv
+rv
+nscomptr
+nsistreamtransportservice
+sts
+dogetservice
+kstreamtransportservicecid
+rv
+nsfailed
+rv
+rv
+rv
+sts
+createinputtransport
+stream
+astartposition
+areadcount
+prtrue
+getteraddrefs
+mtransport
+msocketisopen
+prfalse
+rv
+nsresult
+nsmsgprotocol
+setuptransportstate
+msocketisopen
+mtransport
+nsresult
+rv
+rv
+mtransport
+openoutputstream
+nsitransport
+openblocking
+getteraddrefs
+moutputstream
+nsfailed
+rv
+rv
+nsok
+nsresult
+nsmsgprotocol
+closesocket
+nsresult
+rv
+nsok
+msocketisopen
+prfalse
+minputstream
+nsnull
+moutputstream
+nsnull
+mtransport
+nscomptr
+nsisockettransport
+strans
+doqueryinterface
+mtransport
+strans
+strans
+setsecuritycallbacks
+nsnull
+strans
+seteventsink
+nsnull
+nsnull
+mrequest
+rv
+mrequest
+cancel
+nsbindingaborted
+mrequest
+mtransport
+mtransport
+close
+nsbindingaborted
+mtransport
+rv
+print
+nsmsgprotocol
+senddata
+nsiuri
+aurl
+databuffer
+prbool
+asuppresslogging
+pruint
+writecount
+print
+status
+databuffer
+moutputstream
+status
+moutputstream
+write
+databuffer
+plstrlen
+databuffer
+writecount
+status
+nsimethodimp
+nsmsgprotocol
+ondataavailable
+nsirequest
+request
+nsisupports
+ctxt
+nsiinputstream
+instr
+pruint
+sourceoffset
+pruint
+count
+nscomptr
+nsiuri
+uri
+doqueryinterface
+ctxt
+processprotocolstate
+uri
+instr
+sourceoffset
+count
+nsimethodimp
+nsmsgprotocol
+onstartrequest
+nsirequest
+request
+nsisupports
+ctxt
+nsresult
+rv
+nsok
+nscomptr
+nsimsgmailnewsurl
+amsgurl
+doqueryinterface
+ctxt
+rv
+nssucceeded
+rv
+amsgurl
+rv
+amsgurl
+seturlstate
+prtrue
+nsok
+mloadgroup
+mloadgroup
+addrequest
+nsstaticcast
+nsirequest
+nsnull
+msuppresslistenernotifications
+mchannellistener
+mchannelcontext
+mchannelcontext
+doqueryinterface
+ctxt
+rv
+mchannellistener
+onstartrequest
+mchannelcontext
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsmsgprotocol
+onstoprequest
+nsirequest
+request
+nsisupports
+ctxt
+nsresult
+astatus
+nsresult
+rv
+nsok
+msuppresslistenernotifications
+mchannellistener
+rv
+mchannellistener
+onstoprequest
+mchannelcontext
+astatus
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+ctxt
+rv
+nssucceeded
+rv
+msgurl
+rv
+msgurl
+seturlstate
+prfalse
+astatus
+mloadgroup
+mloadgroup
+removerequest
+nsstaticcast
+nsirequest
+nsnull
+astatus
+nsfailed
+astatus
+astatus
+nsbindingaborted
+nscomptr
+nsiprompt
+msgprompt
+getpromptdialogfromurl
+msgurl
+getteraddrefs
+msgprompt
+nsensuretrue
+msgprompt
+nserrorfailure
+print
+errorid
+astatus
+nserrorunknownhost
+nserrorunknownproxyhost
+errorid
+unknownhosterror
+nserrorconnectionrefused
+nserrorproxyconnectionrefused
+errorid
+connectionrefusederror
+nserrornettimeout
+errorid
+nettimeouterror
+errorid
+unknownerror
+nsassertion
+errorid
+unknownerror
+unknown
+error
+but
+don
+alert
+user
+errorid
+unknownerror
+prunichar
+errormsg
+formatstringwithhostnamebyid
+errorid
+msgurl
+errormsg
+nsnull
+nsautostring
+resultstring
+nsliteralstring
+stringid
+resultstring
+appendint
+errorid
+resultstring
+append
+nsliteralstring
+errormsg
+tonewunicode
+resultstring
+rv
+msgprompt
+alert
+nsnull
+errormsg
+nsmemory
+free
+errormsg
+rv
+nsresult
+nsmsgprotocol
+getpromptdialogfromurl
+nsimsgmailnewsurl
+amsgurl
+nsiprompt
+apromptdialog
+nscomptr
+nsimsgwindow
+msgwindow
+amsgurl
+getmsgwindow
+getteraddrefs
+msgwindow
+nsensuretrue
+msgwindow
+nserrorfailure
+msgwindow
+getpromptdialog
+apromptdialog
+nsensuretrue
+apromptdialog
+nserrorfailure
+nsok
+nsresult
+nsmsgprotocol
+loadurl
+nsiuri
+aurl
+nsisupports
+aconsumer
+nsresult
+rv
+nsok
+nscomptr
+nsimsgmailnewsurl
+amsgurl
+doqueryinterface
+aurl
+rv
+nssucceeded
+rv
+amsgurl
+prbool
+msgisinlocalcache
+amsgurl
+getmsgisinlocalcache
+msgisinlocalcache
+rv
+amsgurl
+seturlstate
+prtrue
+nsok
+mchannellistener
+aconsumer
+mchannellistener
+doqueryinterface
+aconsumer
+mchannelcontext
+mchannelcontext
+doqueryinterface
+aurl
+msocketisopen
+nscomptr
+nsisupports
+urlsupports
+doqueryinterface
+aurl
+mtransport
+minputstream
+rv
+mtransport
+openinputstream
+getteraddrefs
+minputstream
+nsfailed
+rv
+rv
+nscomptr
+nsiinputstreampump
+pump
+rv
+nsnewinputstreampump
+getteraddrefs
+pump
+minputstream
+mreadcount
+nsfailed
+rv
+rv
+mrequest
+pump
+rv
+pump
+asyncread
+urlsupports
+nsassertion
+nssucceeded
+rv
+asyncread
+failed
+msocketisopen
+prtrue
+msgisinlocalcache
+rv
+processprotocolstate
+aurl
+nsnull
+rv
+nsresult
+nsmsgprotocol
+seturl
+nsiuri
+aurl
+murl
+aurl
+nsok
+nsimethodimp
+nsmsgprotocol
+setloadgroup
+nsiloadgroup
+aloadgroup
+mloadgroup
+aloadgroup
+nsok
+nsimethodimp
+nsmsgprotocol
+getoriginaluri
+nsiuri
+auri
+auri
+moriginalurl
+moriginalurl
+murl
+nsifaddref
+auri
+nsok
+nsimethodimp
+nsmsgprotocol
+setoriginaluri
+nsiuri
+auri
+moriginalurl
+auri
+nsok
+nsimethodimp
+nsmsgprotocol
+geturi
+nsiuri
+auri
+auri
+murl
+nsifaddref
+auri
+nsok
+nsimethodimp
+nsmsgprotocol
+open
+nsiinputstream
+retval
+nsnotreached
+open
+nserrornotimplemented
+nsimethodimp
+nsmsgprotocol
+asyncopen
+nsistreamlistener
+listener
+nsisupports
+ctxt
+print
+port
+nsresult
+rv
+murl
+getport
+port
+nsfailed
+rv
+rv
+nscautostring
+scheme
+rv
+murl
+getscheme
+scheme
+nsfailed
+rv
+rv
+rv
+nscheckportsafety
+port
+scheme
+get
+nsfailed
+rv
+rv
+mchannelcontext
+ctxt
+mchannellistener
+listener
+loadurl
+murl
+nsnull
+nsimethodimp
+nsmsgprotocol
+getloadflags
+nsloadflags
+aloadflags
+aloadflags
+mloadflags
+nsok
+nsimethodimp
+nsmsgprotocol
+setloadflags
+nsloadflags
+aloadflags
+mloadflags
+aloadflags
+nsok
+nsimethodimp
+nsmsgprotocol
+getcontenttype
+nsacstring
+acontenttype
+mcontenttype
+isempty
+acontenttype
+nsliteralcstring
+message
+rfc
+acontenttype
+mcontenttype
+nsok
+nsimethodimp
+nsmsgprotocol
+setcontenttype
+nsacstring
+acontenttype
+mcontenttype
+acontenttype
+nsok
+nsimethodimp
+nsmsgprotocol
+getcontentcharset
+nsacstring
+acontentcharset
+acontentcharset
+truncate
+nsok
+nsimethodimp
+nsmsgprotocol
+setcontentcharset
+nsacstring
+acontentcharset
+nswarning
+nsmsgprotocol
+setcontentcharset
+implemented
+nserrornotimplemented
+nsimethodimp
+nsmsgprotocol
+getcontentlength
+print
+acontentlength
+acontentlength
+nsok
+nsimethodimp
+nsmsgprotocol
+getsecurityinfo
+nsisupports
+asecurityinfo
+asecurityinfo
+nsnull
+nserrornotimplemented
+nsimethodimp
+nsmsgprotocol
+getname
+nsacstring
+aname
+nserrornotimplemented
+nsimethodimp
+nsmsgprotocol
+setcontentlength
+print
+acontentlength
+nserrornotimplemented
+nsimethodimp
+nsmsgprotocol
+getowner
+nsisupports
+aprincipal
+aprincipal
+mowner
+nsifaddref
+aprincipal
+nsok
+nsimethodimp
+nsmsgprotocol
+setowner
+nsisupports
+aprincipal
+mowner
+aprincipal
+nsok
+nsimethodimp
+nsmsgprotocol
+getloadgroup
+nsiloadgroup
+aloadgroup
+aloadgroup
+mloadgroup
+nsifaddref
+aloadgroup
+nsok
+nsimethodimp
+nsmsgprotocol
+getnotificationcallbacks
+nsiinterfacerequestor
+anotificationcallbacks
+anotificationcallbacks
+mcallbacks
+get
+nsifaddref
+anotificationcallbacks
+nsok
+nsimethodimp
+nsmsgprotocol
+setnotificationcallbacks
+nsiinterfacerequestor
+anotificationcallbacks
+mcallbacks
+anotificationcallbacks
+mcallbacks
+nscomptr
+nsiprogresseventsink
+progresssink
+mcallbacks
+getinterface
+nsgetiid
+nsiprogresseventsink
+getteraddrefs
+progresssink
+progresssink
+mprogresseventsink
+progresssink
+nsok
+nsimethodimp
+nsmsgprotocol
+ontransportstatus
+nsitransport
+transport
+nsresult
+status
+pruint
+progress
+pruint
+progressmax
+mprogresseventsink
+mloadflags
+loadbackground
+status
+nsisockettransport
+statusreceivingfrom
+status
+nsisockettransport
+statussendingto
+mprogresseventsink
+onprogress
+nsnull
+progress
+progressmax
+nscautostring
+host
+murl
+murl
+gethost
+host
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+murl
+mailnewsurl
+nscomptr
+nsimsgincomingserver
+server
+nsresult
+rv
+mailnewsurl
+getserver
+getteraddrefs
+server
+nssucceeded
+rv
+server
+nsxpidlcstring
+realhostname
+rv
+server
+getrealhostname
+gettercopies
+realhostname
+nssucceeded
+rv
+host
+realhostname
+mprogresseventsink
+onstatus
+nsnull
+status
+nsconvertutftoucs
+host
+get
+nsok
+nsimethodimp
+nsmsgprotocol
+ispending
+prbool
+result
+result
+prtrue
+nsok
+nsimethodimp
+nsmsgprotocol
+getstatus
+nsresult
+status
+mrequest
+mrequest
+getstatus
+status
+status
+nsok
+status
+nsimethodimp
+nsmsgprotocol
+cancel
+nsresult
+status
+nsassertion
+mrequest
+no
+channel
+mrequest
+nserrorfailure
+mrequest
+cancel
+status
+nsimethodimp
+nsmsgprotocol
+suspend
+mrequest
+mrequest
+suspend
+nswarning
+no
+request
+to
+suspend
+nserrornotavailable
+nsimethodimp
+nsmsgprotocol
+resume
+mrequest
+mrequest
+resume
+nswarning
+no
+request
+to
+resume
+nserrornotavailable
+nsresult
+nsmsgprotocol
+postmessage
+nsiuri
+url
+nsifilespec
+filespec
+url
+filespec
+nserrornullpointer
+define
+postdatabuffersize
+nsfilespec
+afilespec
+filespec
+getfilespec
+afilespec
+nsinputfilestream
+filestream
+nsinputfilestream
+afilespec
+prrdonly
+filestream
+filestream
+isopen
+print
+amtinbuffer
+prbool
+lastlinewascomplete
+prtrue
+prbool
+quotelines
+prtrue
+buffer
+postdatabuffersize
+quotelines
+line
+buffer
+print
+bsize
+postdatabuffersize
+amtinbuffer
+lastlinewascomplete
+prtrue
+print
+filestream
+eof
+line
+nsnull
+filestream
+readline
+bsize
+lastlinewascomplete
+prfalse
+line
+plstrlen
+line
+quotelines
+lastlinewascomplete
+line
+print
+line
+line
+line
+lastlinewascomplete
+line
+nscrt
+cr
+line
+nscrt
+lf
+prtrue
+line
+nscrt
+cr
+line
+nscrt
+lf
+line
+filestream
+eof
+line
+nscrt
+cr
+line
+nscrt
+lf
+line
+bsize
+amtinbuffer
+bsize
+buffer
+senddata
+url
+buffer
+buffer
+buffer
+bsize
+postdatabuffersize
+line
+senddata
+url
+buffer
+filestream
+nsok
+nsmsgprotocolstreamprovider
+nsioutputstreamnotify
+nsdeclisupports
+nsmsgprotocolstreamprovider
+nsmsgprotocolstreamprovider
+init
+nsmsgasyncwriteprotocol
+aprotinstance
+nsiinputstream
+ainputstream
+mmsgprotocol
+aprotinstance
+minstream
+ainputstream
+nsimethodimp
+onoutputstreamready
+nsiasyncoutputstream
+aoutstream
+nsassertion
+minstream
+initialized
+nsresult
+rv
+pruint
+avail
+rv
+minstream
+available
+avail
+nsfailed
+rv
+rv
+avail
+mmsgprotocol
+msuspendedwrite
+prtrue
+nsok
+pruint
+byteswritten
+rv
+aoutstream
+writefrom
+minstream
+prmin
+avail
+byteswritten
+mmsgprotocol
+msuspendedread
+mmsgprotocol
+unblockpostreader
+mmsgprotocol
+updateprogress
+byteswritten
+nssucceeded
+rv
+rv
+aoutstream
+asyncwait
+mmsgprotocol
+mprovidereventq
+nsassertion
+nssucceeded
+rv
+rv
+nsbindingaborted
+unexpected
+error
+writing
+stream
+nsok
+nsmsgasyncwriteprotocol
+mmsgprotocol
+nscomptr
+nsiinputstream
+minstream
+nsimplthreadsafeisupports
+nsmsgprotocolstreamprovider
+nsioutputstreamnotify
+nsmsgfileposthelper
+nsistreamlistener
+nsdeclisupports
+nsdeclnsirequestobserver
+nsdeclnsistreamlistener
+nsmsgfileposthelper
+msuspendedpostfileread
+prfalse
+nsresult
+init
+nsioutputstream
+aoutstream
+nsmsgasyncwriteprotocol
+aprotinstance
+nsifile
+afiletopost
+nsmsgfileposthelper
+nscomptr
+nsirequest
+mpostfilerequest
+prbool
+msuspendedpostfileread
+closesocket
+mprotinstance
+nsnull
+nscomptr
+nsioutputstream
+moutstream
+nsmsgasyncwriteprotocol
+mprotinstance
+nsimplthreadsafeaddref
+nsmsgfileposthelper
+nsimplthreadsaferelease
+nsmsgfileposthelper
+nsinterfacemapbegin
+nsmsgfileposthelper
+nsinterfacemapentry
+nsistreamlistener
+nsinterfacemapentry
+nsirequestobserver
+nsinterfacemapendthreadsafe
+nsresult
+nsmsgfileposthelper
+init
+nsioutputstream
+aoutstream
+nsmsgasyncwriteprotocol
+aprotinstance
+nsifile
+afiletopost
+nsresult
+rv
+nsok
+moutstream
+aoutstream
+mprotinstance
+aprotinstance
+nscomptr
+nsiinputstream
+stream
+rv
+nsnewlocalfileinputstream
+getteraddrefs
+stream
+afiletopost
+nsfailed
+rv
+rv
+nscomptr
+nsiinputstreampump
+pump
+rv
+nsnewinputstreampump
+getteraddrefs
+pump
+stream
+nsfailed
+rv
+rv
+rv
+pump
+asyncread
+nsnull
+nsfailed
+rv
+rv
+mpostfilerequest
+pump
+nsok
+nsimethodimp
+nsmsgfileposthelper
+onstartrequest
+nsirequest
+achannel
+nsisupports
+ctxt
+nsok
+nsimethodimp
+nsmsgfileposthelper
+onstoprequest
+nsirequest
+achannel
+nsisupports
+ctxt
+nsresult
+astatus
+mprotinstance
+nsok
+msuspendedpostfileread
+mprotinstance
+postdatafinished
+msuspendedpostfileread
+prfalse
+mprotinstance
+mfileposthelper
+nsnull
+nsok
+nsimethodimp
+nsmsgfileposthelper
+ondataavailable
+nsirequest
+nsisupports
+ctxt
+nsiinputstream
+instr
+pruint
+sourceoffset
+pruint
+count
+mprotinstance
+nsok
+msuspendedpostfileread
+mprotinstance
+updatesuspendedreadbytes
+count
+mprotinstance
+minsertperiodrequired
+nsok
+mprotinstance
+processincomingpostdata
+instr
+count
+mprotinstance
+msuspendedwrite
+mprotinstance
+msuspendedwrite
+prfalse
+mprotinstance
+masyncoutstream
+asyncwait
+mprotinstance
+mprovider
+mprotinstance
+mprovidereventq
+nsok
+nsimpladdrefinherited
+nsmsgasyncwriteprotocol
+nsmsgprotocol
+nsimplreleaseinherited
+nsmsgasyncwriteprotocol
+nsmsgprotocol
+nsinterfacemapbegin
+nsmsgasyncwriteprotocol
+nsinterfacemapendinheriting
+nsmsgprotocol
+nsmsgasyncwriteprotocol
+nsmsgasyncwriteprotocol
+nsiuri
+aurl
+nsmsgprotocol
+aurl
+msuspendedwrite
+prfalse
+msuspendedreadbytes
+msuspendedread
+prfalse
+minsertperiodrequired
+prfalse
+mgenerateprogressnotifications
+prfalse
+msuspendedreadbytespostperiod
+mfileposthelper
+nsnull
+nsmsgasyncwriteprotocol
+nsmsgasyncwriteprotocol
+nsimethodimp
+nsmsgasyncwriteprotocol
+cancel
+nsresult
+status
+mrequest
+mrequest
+cancel
+status
+masyncoutstream
+masyncoutstream
+closeex
+status
+nsok
+nsresult
+nsmsgasyncwriteprotocol
+postmessage
+nsiuri
+url
+nsifilespec
+filespec
+nsfilespec
+spec
+filespec
+getfilespec
+spec
+nscomptr
+nsilocalfile
+file
+nsfilespectoifile
+spec
+getteraddrefs
+file
+nscomptr
+nsistreamlistener
+listener
+nsnewxpcom
+listener
+nsmsgfileposthelper
+listener
+nserroroutofmemory
+msuspendedreadbytes
+mnumbytesposted
+filespec
+getfilesize
+mfilepostsize
+msuspendedread
+prfalse
+minsertperiodrequired
+prfalse
+msuspendedreadbytespostperiod
+mgenerateprogressnotifications
+prtrue
+mfileposthelper
+nsstaticcast
+nsmsgfileposthelper
+nsstaticcast
+nsistreamlistener
+listener
+nsstaticcast
+nsmsgfileposthelper
+nsstaticcast
+nsistreamlistener
+listener
+init
+moutputstream
+file
+nsok
+nsresult
+nsmsgasyncwriteprotocol
+suspendpostfileread
+ifdef
+debugmscott
+printf
+suspending
+post
+read
+during
+send
+endif
+mfileposthelper
+mfileposthelper
+msuspendedpostfileread
+mfileposthelper
+mpostfilerequest
+suspend
+mfileposthelper
+msuspendedpostfileread
+prtrue
+nsok
+nsresult
+nsmsgasyncwriteprotocol
+resumepostfileread
+ifdef
+debugmscott
+printf
+resuming
+post
+read
+during
+send
+endif
+mfileposthelper
+mfileposthelper
+msuspendedpostfileread
+mfileposthelper
+mpostfilerequest
+resume
+mfileposthelper
+msuspendedpostfileread
+prfalse
+postdatafinished
+nsok
+nsresult
+nsmsgasyncwriteprotocol
+updatesuspendedreadbytes
+pruint
+anewbytes
+prbool
+aaddtopostperiodbytecount
+msuspendedread
+prtrue
+aaddtopostperiodbytecount
+msuspendedreadbytespostperiod
+anewbytes
+msuspendedreadbytes
+anewbytes
+nsok
+nsresult
+nsmsgasyncwriteprotocol
+postdatafinished
+senddata
+nsnull
+crlf
+crlf
+mgenerateprogressnotifications
+prfalse
+mpostdatastream
+nsnull
+nsok
+nsresult
+nsmsgasyncwriteprotocol
+processincomingpostdata
+nsiinputstream
+instr
+pruint
+count
+msocketisopen
+nsok
+nscomptr
+nsisearchableinputstream
+bufferinputstr
+doqueryinterface
+instr
+nsassertion
+bufferinputstr
+made
+wrong
+assumption
+about
+the
+type
+of
+stream
+we
+are
+getting
+nsassertion
+msuspendedreadbytes
+oops
+missed
+something
+mpostdatastream
+mpostdatastream
+instr
+bufferinputstr
+pruint
+amountwritten
+count
+prbool
+found
+prfalse
+pruint
+offset
+bufferinputstr
+search
+prtrue
+found
+offset
+found
+offset
+count
+moutputstream
+writefrom
+instr
+count
+amountwritten
+count
+amountwritten
+updatesuspendedreadbytes
+count
+amountwritten
+prfalse
+suspendpostfileread
+moutputstream
+writefrom
+instr
+offset
+amountwritten
+count
+amountwritten
+offset
+amountwritten
+updatesuspendedreadbytes
+offset
+amountwritten
+prfalse
+minsertperiodrequired
+prtrue
+updatesuspendedreadbytes
+count
+minsertperiodrequired
+suspendpostfileread
+moutputstream
+write
+amountwritten
+amountwritten
+minsertperiodrequired
+prtrue
+updatesuspendedreadbytes
+count
+minsertperiodrequired
+suspendpostfileread
+nsok
+nsresult
+nsmsgasyncwriteprotocol
+unblockpostreader
+pruint
+amountwritten
+msocketisopen
+nsok
+msuspendedread
+msuspendedreadbytes
+mpostdatastream
+pruint
+avail
+mpostdatastream
+available
+avail
+moutputstream
+writefrom
+mpostdatastream
+prmin
+avail
+msuspendedreadbytes
+amountwritten
+msuspendedreadbytes
+avail
+msuspendedreadbytes
+avail
+msuspendedreadbytes
+amountwritten
+msuspendedreadbytes
+amountwritten
+msuspendedreadbytes
+minsertperiodrequired
+msuspendedreadbytes
+amountwritten
+moutputstream
+write
+amountwritten
+amountwritten
+minsertperiodrequired
+prfalse
+minsertperiodrequired
+msuspendedreadbytespostperiod
+pruint
+postbytes
+msuspendedreadbytespostperiod
+msuspendedreadbytespostperiod
+processincomingpostdata
+mpostdatastream
+postbytes
+msuspendedreadbytes
+minsertperiodrequired
+msuspendedreadbytespostperiod
+msuspendedread
+prfalse
+resumepostfileread
+nsok
+nsresult
+nsmsgasyncwriteprotocol
+setuptransportstate
+nsresult
+rv
+nsok
+moutputstream
+mtransport
+rv
+nsnewpipe
+getteraddrefs
+minstream
+getteraddrefs
+moutputstream
+prtrue
+prtrue
+rv
+nsgetcurrenteventq
+getteraddrefs
+mprovidereventq
+nsfailed
+rv
+rv
+nsmsgprotocolstreamprovider
+provider
+nsnewxpcom
+provider
+nsmsgprotocolstreamprovider
+provider
+nserroroutofmemory
+provider
+init
+minstream
+mprovider
+provider
+nscomptr
+nsioutputstream
+stream
+rv
+mtransport
+openoutputstream
+getteraddrefs
+stream
+nsfailed
+rv
+rv
+masyncoutstream
+doqueryinterface
+stream
+rv
+nsfailed
+rv
+rv
+rv
+masyncoutstream
+asyncwait
+mprovider
+mprovidereventq
+rv
+nsresult
+nsmsgasyncwriteprotocol
+closesocket
+nsresult
+rv
+nsok
+masyncoutstream
+masyncoutstream
+closeex
+nsbindingaborted
+nsmsgprotocol
+closesocket
+mfileposthelper
+mfileposthelper
+closesocket
+mfileposthelper
+nsnull
+masyncoutstream
+mprovider
+mprovidereventq
+rv
+nsmsgasyncwriteprotocol
+updateprogress
+pruint
+anewbytes
+mgenerateprogressnotifications
+mnumbytesposted
+anewbytes
+mfilepostsize
+nscomptr
+nsimsgmailnewsurl
+mailurl
+doqueryinterface
+murl
+mailurl
+nscomptr
+nsimsgstatusfeedback
+statusfeedback
+mailurl
+getstatusfeedback
+getteraddrefs
+statusfeedback
+statusfeedback
+nscomptr
+nsiwebprogresslistener
+webprogresslistener
+doqueryinterface
+statusfeedback
+webprogresslistener
+webprogresslistener
+onprogresschange
+nsnull
+mrequest
+mnumbytesposted
+mfilepostsize
+mnumbytesposted
+mfilepostsize
+print
+nsmsgasyncwriteprotocol
+senddata
+nsiuri
+aurl
+databuffer
+prbool
+asuppresslogging
+pruint
+len
+strlen
+databuffer
+pruint
+cnt
+nsresult
+rv
+moutputstream
+write
+databuffer
+len
+cnt
+nssucceeded
+rv
+len
+cnt
+msuspendedwrite
+msuspendedwrite
+prfalse
+masyncoutstream
+asyncwait
+mprovider
+mprovidereventq
+nsok
+nserrorfailure
+define
+msgsurl
+messenger
+locale
+messenger
+properties
+prunichar
+getstringbyid
+print
+stringid
+nsresult
+rv
+nscomptr
+nsistringbundle
+sbundle
+nsnull
+nscomptr
+nsistringbundleservice
+sbundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsfailed
+rv
+nsnull
+sbundleservice
+nsnull
+rv
+sbundleservice
+createbundle
+msgsurl
+getteraddrefs
+sbundle
+nsfailed
+rv
+nsnull
+prunichar
+ptrv
+nsnull
+rv
+sbundle
+getstringfromid
+stringid
+ptrv
+nsfailed
+rv
+nsnull
+ptrv
+prunichar
+formatstringwithhostnamebyid
+print
+stringid
+nsimsgmailnewsurl
+msguri
+msguri
+nsnull
+nsresult
+rv
+nscomptr
+nsistringbundle
+sbundle
+nsnull
+nscomptr
+nsistringbundleservice
+sbundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsfailed
+rv
+sbundleservice
+nsnull
+rv
+sbundleservice
+createbundle
+msgsurl
+getteraddrefs
+sbundle
+nsfailed
+rv
+nsnull
+prunichar
+ptrv
+nsnull
+nsxpidlcstring
+hostname
+nscomptr
+nsimsgincomingserver
+server
+rv
+msguri
+getserver
+getteraddrefs
+server
+nssucceeded
+rv
+server
+rv
+server
+getrealhostname
+gettercopies
+hostname
+nsautostring
+hoststr
+hoststr
+assignwithconversion
+hostname
+get
+prunichar
+params
+hoststr
+get
+rv
+sbundle
+formatstringfromid
+stringid
+params
+ptrv
+nsfailed
+rv
+nsnull
+ptrv
\ No newline at end of file
@@ -0,0 +1,170 @@
+nsmsgutfutils
+nscomptr
+nsicharsetconvertermanager
+prmem
+nsreadableutils
+nsdefinecid
+kcharsetconvertermanagercid
+nsicharsetconvertermanagercid
+createutfconvertedstringfromunicode
+prunichar
+asourcestring
+nsresult
+res
+dstptr
+nsnull
+print
+dstlength
+nscomptr
+nsicharsetconvertermanager
+ccm
+dogetservice
+kcharsetconvertermanagercid
+res
+nssucceeded
+res
+nsnull
+ccm
+print
+unicharlength
+nsstring
+unicodestr
+asourcestring
+nsiunicodeencoder
+encoder
+nsnull
+res
+ccm
+getunicodeencoderraw
+imap
+modified
+utf
+encoder
+nssucceeded
+res
+nsnull
+encoder
+res
+encoder
+getmaxlength
+unicodestr
+get
+unicodestr
+length
+dstlength
+dstptr
+prcalloc
+dstlength
+unicharlength
+unicodestr
+length
+dstptr
+nsnull
+res
+nserroroutofmemory
+finishbuffer
+print
+finishsize
+finishbuffer
+res
+encoder
+convert
+unicodestr
+get
+unicharlength
+dstptr
+dstlength
+encoder
+finish
+finishbuffer
+finishsize
+finishbuffer
+finishsize
+dstptr
+dstlength
+strcat
+dstptr
+finishbuffer
+nsifrelease
+encoder
+dstptr
+nsresult
+createunicodestringfromutf
+asourcestring
+prunichar
+aunicodestr
+aunicodestr
+nserrornullpointer
+prunichar
+convertedstring
+nsresult
+res
+nscomptr
+nsicharsetconvertermanager
+ccm
+dogetservice
+kcharsetconvertermanagercid
+res
+nssucceeded
+res
+nsnull
+ccm
+prunichar
+unichars
+nsnull
+print
+unicharlength
+nsiunicodedecoder
+decoder
+nsnull
+res
+ccm
+getunicodedecoderraw
+imap
+modified
+utf
+decoder
+nssucceeded
+res
+nsnull
+decoder
+print
+srclen
+plstrlen
+asourcestring
+res
+decoder
+getmaxlength
+asourcestring
+srclen
+unicharlength
+unichars
+prunichar
+unicharlength
+unichars
+nsnull
+res
+nserroroutofmemory
+res
+decoder
+convert
+asourcestring
+srclen
+unichars
+unicharlength
+unichars
+unicharlength
+nsifrelease
+decoder
+nsstring
+unicodestr
+unichars
+convertedstring
+tonewunicode
+unicodestr
+unichars
+aunicodestr
+convertedstring
+convertedstring
+nsok
+nserroroutofmemory nsresult
\ No newline at end of file
@@ -0,0 +1,397 @@
+msgcore
+prlog
+mailnewstypes
+nsuintarray
+nsquicksort
+mozdeclctorcounter
+nsuintarray
+nsuintarray
+nsuintarray
+mozcountctor
+nsuintarray
+mnsize
+mnmaxsize
+mngrowby
+mpdata
+nsuintarray
+nsuintarray
+mozcountdtor
+nsuintarray
+setsize
+pruint
+nsuintarray
+getsize
+mnsize
+prbool
+nsuintarray
+setsize
+pruint
+nsize
+prbool
+adjustgrowth
+pruint
+ngrowby
+adjustgrowth
+mngrowby
+ngrowby
+ifdef
+maxarrelems
+nsize
+maxarrelems
+prassert
+nsize
+maxarrelems
+prfalse
+endif
+nsize
+prfree
+mpdata
+mnsize
+mnmaxsize
+mpdata
+mpdata
+mnmaxsize
+prmax
+nsize
+mpdata
+pruint
+prcalloc
+mnmaxsize
+pruint
+mpdata
+mnsize
+nsize
+mnsize
+mnmaxsize
+nsize
+mnmaxsize
+nsize
+mnsize
+memset
+mpdata
+mnsize
+nsize
+mnsize
+pruint
+mnsize
+nsize
+pruint
+nmaxsize
+ngrowby
+prmax
+mngrowby
+prmin
+prmax
+mnsize
+nmaxsize
+prmax
+nsize
+mnmaxsize
+ngrowby
+ifdef
+maxarrelems
+nmaxsize
+prmin
+maxarrelems
+nmaxsize
+endif
+pruint
+pnewdata
+pruint
+prmalloc
+nmaxsize
+pruint
+pnewdata
+memcpy
+pnewdata
+mpdata
+mnsize
+pruint
+memset
+pnewdata
+mnsize
+nsize
+mnsize
+pruint
+mnsize
+nsize
+mnmaxsize
+nmaxsize
+prfree
+mpdata
+mpdata
+pnewdata
+nsize
+mnsize
+pruint
+nsuintarray
+elementat
+pruint
+nindex
+nsassertion
+nindex
+mnsize
+array
+index
+out
+of
+bounds
+mpdata
+nindex
+pruint
+nsuintarray
+getat
+pruint
+nindex
+nsassertion
+nindex
+mnsize
+array
+index
+out
+of
+bounds
+mpdata
+nindex
+pruint
+nsuintarray
+getdata
+mpdata
+nsuintarray
+setat
+pruint
+nindex
+pruint
+newelement
+nsassertion
+nindex
+mnsize
+array
+index
+out
+of
+bounds
+mpdata
+nindex
+newelement
+pruint
+nsuintarray
+add
+pruint
+newelement
+pruint
+nindex
+mnsize
+ifdef
+maxarrelems
+nindex
+maxarrelems
+endif
+setatgrow
+nindex
+newelement
+nindex
+pruint
+nsuintarray
+add
+pruint
+elementptr
+pruint
+numelements
+setsize
+mnsize
+numelements
+memcpy
+mpdata
+mnsize
+numelements
+elementptr
+numelements
+pruint
+mnsize
+pruint
+nsuintarray
+clonedata
+pruint
+copyofdata
+pruint
+prmalloc
+mnsize
+pruint
+copyofdata
+memcpy
+copyofdata
+mpdata
+mnsize
+pruint
+copyofdata
+nsuintarray
+insertat
+pruint
+nindex
+pruint
+newelement
+pruint
+ncount
+nsassertion
+ncount
+can
+insert
+elements
+nindex
+mnsize
+setsize
+nindex
+ncount
+noldsize
+mnsize
+setsize
+mnsize
+ncount
+memmove
+mpdata
+nindex
+ncount
+mpdata
+nindex
+noldsize
+nindex
+pruint
+nsassertion
+nindex
+ncount
+mnsize
+setting
+size
+failed
+ncount
+mpdata
+nindex
+newelement
+nsuintarray
+insertat
+pruint
+nstartindex
+nsuintarray
+pnewarray
+nsassertion
+pnewarray
+inserting
+array
+pnewarray
+pnewarray
+getsize
+insertat
+nstartindex
+pnewarray
+getat
+pnewarray
+getsize
+pruint
+pnewarray
+getsize
+mpdata
+nstartindex
+pnewarray
+getat
+nsuintarray
+removeall
+setsize
+nsuintarray
+removeat
+pruint
+nindex
+pruint
+ncount
+nsassertion
+nindex
+ncount
+mnsize
+removing
+past
+end
+of
+array
+ncount
+nmovecount
+mnsize
+nindex
+ncount
+ncount
+nmovecount
+memmove
+mpdata
+nindex
+mpdata
+nindex
+ncount
+nmovecount
+pruint
+mnsize
+ncount
+nsuintarray
+setatgrow
+pruint
+nindex
+pruint
+newelement
+nindex
+mnsize
+setsize
+nindex
+mpdata
+nindex
+newelement
+nsuintarray
+copyarray
+nsuintarray
+olda
+copyarray
+olda
+nsuintarray
+copyarray
+nsuintarray
+olda
+mpdata
+prfree
+mpdata
+mnsize
+olda
+mnsize
+mnmaxsize
+olda
+mnsize
+mpdata
+pruint
+prmalloc
+mnsize
+pruint
+mpdata
+memcpy
+mpdata
+olda
+mpdata
+mnsize
+pruint
+prcallback
+comparedword
+pruint
+pruint
+pruint
+pruint
+nsuintarray
+quicksort
+prcallback
+compare
+elem
+elem
+data
+mnsize
+nsquicksort
+mpdata
+mnsize
+pruint
+compare
+compare
+comparedword
+nsnull
\ No newline at end of file
@@ -0,0 +1,398 @@
+msgcore
+nsuintarray
+mozdeclctorcounter
+nsuintarray
+nsuintarray
+nsuintarray
+mpdata
+nsnull
+mnsize
+mnmaxsize
+mngrowby
+nsuintarray
+nsuintarray
+prfree
+mpdata
+nsuintarray
+setsize
+print
+nnewsize
+print
+ngrowby
+nsassertion
+nnewsize
+can
+set
+size
+to
+negative
+value
+ngrowby
+mngrowby
+ngrowby
+nnewsize
+prfree
+mpdata
+mpdata
+nsnull
+mnsize
+mnmaxsize
+mpdata
+nsnull
+mpdata
+pruint
+prmalloc
+nnewsize
+pruint
+memset
+mpdata
+nnewsize
+pruint
+mnsize
+mnmaxsize
+nnewsize
+nnewsize
+mnmaxsize
+nnewsize
+mnsize
+memset
+mpdata
+mnsize
+nnewsize
+mnsize
+pruint
+mnsize
+nnewsize
+print
+ngrowby
+mngrowby
+ngrowby
+ngrowby
+prmin
+prmax
+mnsize
+print
+nnewmax
+nnewsize
+mnmaxsize
+ngrowby
+nnewmax
+mnmaxsize
+ngrowby
+nnewmax
+nnewsize
+nsassertion
+nnewmax
+mnmaxsize
+no
+wraparound
+pruint
+pnewdata
+pruint
+prmalloc
+nnewmax
+pruint
+memcpy
+pnewdata
+mpdata
+mnsize
+pruint
+nsassertion
+nnewsize
+mnsize
+did
+grow
+size
+memset
+pnewdata
+mnsize
+nnewsize
+mnsize
+pruint
+prfree
+mpdata
+mpdata
+pnewdata
+mnsize
+nnewsize
+mnmaxsize
+nnewmax
+nsuintarray
+freeextra
+mnsize
+mnmaxsize
+pruint
+pnewdata
+nsnull
+mnsize
+pnewdata
+pruint
+prmalloc
+mnsize
+pruint
+memcpy
+pnewdata
+mpdata
+mnsize
+pruint
+prfree
+mpdata
+mpdata
+pnewdata
+mnmaxsize
+mnsize
+nsuintarray
+copyarray
+nsuintarray
+asrcarray
+prfreeif
+mpdata
+mnsize
+asrcarray
+mnsize
+mnmaxsize
+asrcarray
+mnsize
+mpdata
+pruint
+prmalloc
+mnsize
+pruint
+mpdata
+memcpy
+mpdata
+asrcarray
+mpdata
+mnsize
+pruint
+nsuintarray
+setatgrow
+print
+nindex
+pruint
+newelement
+nsassertion
+nindex
+can
+insert
+at
+negative
+index
+nindex
+mnsize
+setsize
+nindex
+mpdata
+nindex
+newelement
+nsresult
+nsuintarray
+insertat
+print
+nindex
+pruint
+newelement
+print
+ncount
+nsassertion
+nindex
+can
+insert
+at
+negative
+index
+nsassertion
+ncount
+have
+to
+insert
+something
+nindex
+mnsize
+setsize
+nindex
+ncount
+print
+noldsize
+mnsize
+setsize
+mnsize
+ncount
+memmove
+mpdata
+nindex
+ncount
+mpdata
+nindex
+noldsize
+nindex
+pruint
+memset
+mpdata
+nindex
+ncount
+pruint
+nsassertion
+nindex
+ncount
+mnsize
+overflow
+ncount
+mpdata
+nindex
+newelement
+nsok
+nsuintarray
+removeat
+print
+nindex
+print
+ncount
+nindex
+ncount
+nindex
+ncount
+mnsize
+nsassertion
+prfalse
+bad
+remove
+index
+count
+print
+nmovecount
+mnsize
+nindex
+ncount
+nsassertion
+nmovecount
+can
+remove
+nothing
+nmovecount
+memmove
+mpdata
+nindex
+mpdata
+nindex
+ncount
+nmovecount
+pruint
+mnsize
+ncount
+nsresult
+nsuintarray
+insertat
+print
+nstartindex
+nsuintarray
+pnewarray
+nsensurearg
+pnewarray
+nsassertion
+nstartindex
+start
+index
+must
+be
+positive
+pnewarray
+getsize
+insertat
+nstartindex
+pnewarray
+getat
+pnewarray
+getsize
+print
+pnewarray
+getsize
+setat
+nstartindex
+pnewarray
+getat
+nsok
+print
+nsuintarray
+getsize
+mnsize
+print
+nsuintarray
+getupperbound
+mnsize
+nsuintarray
+removeall
+setsize
+pruint
+nsuintarray
+getat
+print
+nindex
+nsassertion
+nindex
+nindex
+mnsize
+out
+of
+bounds
+mpdata
+nindex
+nsuintarray
+setat
+print
+nindex
+pruint
+newelement
+nsassertion
+nindex
+nindex
+mnsize
+out
+of
+bounds
+mpdata
+nindex
+newelement
+pruint
+nsuintarray
+elementat
+print
+nindex
+nsassertion
+nindex
+nindex
+mnsize
+out
+of
+bounds
+mpdata
+nindex
+print
+nsuintarray
+add
+pruint
+newelement
+print
+nindex
+mnsize
+setatgrow
+nindex
+newelement
+nindex
+pruint
+nsuintarray
+print
+nindex
+getat
+nindex
+pruint
+nsuintarray
+print
+nindex
+elementat
+nindex
+ifdef
+debug
+nsuintarray
+assertvalid
+endif
\ No newline at end of file
@@ -0,0 +1,233 @@
+msgcore
+nsisupports
+nscomptr
+nsifactory
+nsigenericfactory
+nsiservicemanager
+nsimodule
+pratom
+nsmsgcompcid
+nsmsgsendlater
+nssmtpurl
+nsismtpservice
+nssmtpservice
+nsmsgcomposeservice
+nsmsgcomposecontenthandler
+nsmsgcompose
+nsmsgcomposeparams
+nsmsgcomposeprogressparams
+nsmsgattachment
+nsmsgsend
+nsmsgquote
+nsimsgdraft
+nsmsgcreate
+nsurlfetcher
+nssmtpserver
+nssmtpdatasource
+nssmtpdelegatefactory
+nsicontenthandler
+nsmsgrecipientarray
+nsmsgcomposestringbundle
+nsmsgcomputils
+nsgenericfactoryconstructor
+nssmtpservice
+nsgenericfactoryconstructor
+nssmtpserver
+nsgenericfactoryconstructor
+nsmsgcompose
+nsgenericfactoryconstructor
+nsmsgcomposeparams
+nsgenericfactoryconstructor
+nsmsgcomposesendlistener
+nsgenericfactoryconstructor
+nsmsgcomposeprogressparams
+nsgenericfactoryconstructor
+nsmsgcompfields
+nsgenericfactoryconstructor
+nsmsgattachment
+nsgenericfactoryconstructor
+nsmsgcomposeandsend
+nsgenericfactoryconstructor
+nsmsgsendlater
+nsgenericfactoryconstructor
+nsmsgdraft
+nsgenericfactoryconstructorinit
+nsmsgcomposeservice
+init
+nsgenericfactoryconstructor
+nsmsgcomposecontenthandler
+nsgenericfactoryconstructor
+nsmsgquote
+nsgenericfactoryconstructor
+nsmsgquotelistener
+nsgenericfactoryconstructor
+nssmtpurl
+nsgenericfactoryconstructor
+nsmailtourl
+nsgenericfactoryconstructor
+nsmsgrecipientarray
+nsgenericfactoryconstructor
+nscomposestringservice
+nsgenericfactoryconstructor
+nssmtpdatasource
+nsgenericfactoryconstructor
+nssmtpdelegatefactory
+nsgenericfactoryconstructor
+nsurlfetcher
+nsgenericfactoryconstructor
+nsmsgcomputils
+nsmodulecomponentinfo
+components
+msg
+compose
+nsmsgcomposecid
+nsmsgcomposecontractid
+nsmsgcomposeconstructor
+msg
+compose
+service
+nsmsgcomposeservicecid
+nsmsgcomposeservicecontractid
+nsmsgcomposeserviceconstructor
+msg
+compose
+startup
+handler
+nsmsgcomposeservicecid
+nsmsgcomposestartuphandlercontractid
+nsmsgcomposeserviceconstructor
+nsmsgcomposeservice
+registerproc
+nsmsgcomposeservice
+unregisterproc
+mailto
+content
+handler
+nsmsgcomposecontenthandlercid
+nsmsgcomposecontenthandlercontractid
+nsmsgcomposecontenthandlerconstructor
+msg
+compose
+parameters
+nsmsgcomposeparamscid
+nsmsgcomposeparamscontractid
+nsmsgcomposeparamsconstructor
+msg
+compose
+send
+listener
+nsmsgcomposesendlistenercid
+nsmsgcomposesendlistenercontractid
+nsmsgcomposesendlistenerconstructor
+msg
+compose
+progress
+parameters
+nsmsgcomposeprogressparamscid
+nsmsgcomposeprogressparamscontractid
+nsmsgcomposeprogressparamsconstructor
+msg
+compose
+fields
+nsmsgcompfieldscid
+nsmsgcompfieldscontractid
+nsmsgcompfieldsconstructor
+msg
+compose
+attachment
+nsmsgattachmentcid
+nsmsgattachmentcontractid
+nsmsgattachmentconstructor
+msg
+draft
+nsmsgdraftcid
+nsmsgdraftcontractid
+nsmsgdraftconstructor
+msg
+send
+nsmsgsendcid
+nsmsgsendcontractid
+nsmsgcomposeandsendconstructor
+msg
+send
+later
+nsmsgsendlatercid
+nsmsgsendlatercontractid
+nsmsgsendlaterconstructor
+smtp
+service
+nssmtpservicecid
+nssmtpservicecontractid
+nssmtpserviceconstructor
+smtp
+service
+nssmtpservicecid
+nsmailtohandlercontractid
+nssmtpserviceconstructor
+smtp
+server
+nssmtpservercid
+nssmtpservercontractid
+nssmtpserverconstructor
+smtp
+url
+nssmtpurlcid
+nssmtpurlcontractid
+nssmtpurlconstructor
+mailto
+url
+nsmailtourlcid
+nsmailtourlcontractid
+nsmailtourlconstructor
+msg
+quote
+nsmsgquotecid
+nsmsgquotecontractid
+nsmsgquoteconstructor
+msg
+quote
+listener
+nsmsgquotelistenercid
+nsmsgquotelistenercontractid
+nsmsgquotelistenerconstructor
+msg
+recipient
+array
+nsmsgrecipientarraycid
+nsmsgrecipientarraycontractid
+nsmsgrecipientarrayconstructor
+compose
+bundle
+nsmsgcomposestringservicecid
+nsmsgcomposestringservicecontractid
+nscomposestringserviceconstructor
+smtp
+bundle
+nsmsgcomposestringservicecid
+nsmsgsmtpstringservicecontractid
+nscomposestringserviceconstructor
+smtp
+datasource
+nssmtpdatasourcecid
+nssmtpdatasourcecontractid
+nssmtpdatasourceconstructor
+smtp
+delegate
+factory
+nssmtpdelegatefactorycid
+nssmtpdelegatefactorycontractid
+nssmtpdelegatefactoryconstructor
+url
+fetcher
+nsurlfetchercid
+nsurlfetchercontractid
+nsurlfetcherconstructor
+msg
+compose
+utils
+nsmsgcomputilscid
+nsmsgcomputilscontractid
+nsmsgcomputilsconstructor
+nsimplnsgetmodule
+nsmsgcomposemodule
+components
\ No newline at end of file
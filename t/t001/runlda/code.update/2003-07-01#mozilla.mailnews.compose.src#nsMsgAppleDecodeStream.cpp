@@ -0,0 +1,783 @@
+don
+compile
+me
+richie
+richie
+richie
+old
+fe
+interfaces
+to
+appledouble
+encode
+decode
+richie
+richie
+richie
+nscore
+msgcore
+prio
+nsmsgappledouble
+nsmsgapplecodes
+nsmsgbinhex
+mcvstrm
+mkmsgsaveattachas
+ifdef
+richiexpmac
+pragma
+warnunusedarg
+off
+mkunabletoopentmpfile
+mkmimeerrorwritingfile
+define
+workingbuffsize
+appledoubleencodeobject
+appledoubleencodeobject
+apencodeobj
+buff
+print
+sbuff
+richiexpfile
+fp
+fname
+appledoubleencodeobject
+private
+netappledoubleencodewrite
+stream
+print
+status
+appledoubleencodeobject
+obj
+appledoubleencodeobject
+stream
+print
+count
+size
+size
+obj
+sbuff
+size
+prmin
+size
+status
+apencodenext
+obj
+apencodeobj
+obj
+buff
+size
+count
+status
+noerr
+status
+errdone
+richiexpfilewrite
+obj
+buff
+count
+obj
+fp
+count
+errfilewrite
+status
+noerr
+size
+status
+private
+netappledoubleencodeready
+stream
+prmaxwriteready
+private
+netappledoubleencodecomplete
+stream
+appledoubleencodeobject
+obj
+appledoubleencodeobject
+stream
+apencodeend
+obj
+apencodeobj
+obj
+fp
+richiexpfileclose
+obj
+fp
+prfreeif
+obj
+fname
+prfreeif
+obj
+buff
+prfreeif
+obj
+private
+netappledoubleencodeabort
+stream
+status
+appledoubleencodeobject
+obj
+appledoubleencodeobject
+stream
+apencodeend
+obj
+apencodeobj
+obj
+fp
+richiexpfileclose
+obj
+fp
+richiexpfileremove
+obj
+fname
+xpurl
+prfreeif
+obj
+fname
+prfreeif
+obj
+buff
+prfreeif
+obj
+public
+netstreamclass
+femakeappledoubleencodestream
+formatout
+dataobj
+urlstruct
+urls
+mwcontext
+windowid
+srcfilename
+dstfilename
+separator
+appledoubleencodeobject
+obj
+netstreamclass
+stream
+workingbuff
+bsize
+workingbuffsize
+tracemsg
+setting
+up
+apple
+encode
+stream
+have
+url
+urls
+address
+stream
+netstreamclass
+stream
+obj
+appledoubleencodeobject
+obj
+prfreeif
+stream
+workingbuff
+bsize
+workingbuff
+prcalloc
+bsize
+workingbuff
+bsize
+workingbuff
+prfreeif
+obj
+prfreeif
+stream
+stream
+name
+apple
+double
+encode
+stream
+complete
+mkstreamcompletefunc
+netappledoubleencodecomplete
+stream
+abort
+mkstreamabortfunc
+netappledoubleencodeabort
+stream
+putblock
+mkstreamwritefunc
+netappledoubleencodewrite
+stream
+iswriteready
+mkstreamwritereadyfunc
+netappledoubleencodeready
+stream
+dataobject
+obj
+stream
+windowid
+windowid
+obj
+fp
+richiexpfileopen
+dstfilename
+xpfiletopost
+richiexpfilewritebin
+obj
+fp
+prfreeif
+workingbuff
+prfreeif
+obj
+prfreeif
+stream
+obj
+fname
+nscrt
+strdup
+dstfilename
+obj
+buff
+workingbuff
+obj
+sbuff
+bsize
+apencodeinit
+obj
+apencodeobj
+srcfilename
+separator
+tracemsg
+returning
+stream
+from
+netappledoubleencoder
+stream
+endif
+appledoubledecodeobject
+appledoubledecodeobject
+apdecodeobj
+inbuff
+print
+bytesinbuff
+netstreamclass
+binhexstream
+appledoubledecodeobject
+private
+netappledoubledecodewrite
+stream
+print
+status
+noerr
+appledoubledecodeobject
+obj
+appledoubledecodeobject
+stream
+print
+size
+obj
+bytesinbuff
+size
+obj
+bytesinbuff
+memcpy
+obj
+inbuff
+obj
+bytesinbuff
+size
+size
+size
+status
+apdecodenext
+obj
+apdecodeobj
+obj
+inbuff
+obj
+bytesinbuff
+status
+apdecodenext
+obj
+apdecodeobj
+memcpy
+obj
+inbuff
+obj
+bytesinbuff
+obj
+bytesinbuff
+status
+private
+netappledoubledecodeready
+netstreamclass
+stream
+prmaxwriteready
+private
+netappledoubledecodecomplete
+stream
+appledoubledecodeobject
+obj
+appledoubledecodeobject
+stream
+obj
+bytesinbuff
+apdecodenext
+obj
+apdecodeobj
+obj
+inbuff
+obj
+bytesinbuff
+obj
+bytesinbuff
+apdecodeend
+obj
+apdecodeobj
+false
+obj
+binhexstream
+prfreeif
+obj
+binhexstream
+obj
+inbuff
+prfreeif
+obj
+inbuff
+prfreeif
+obj
+private
+netappledoubledecodeabort
+stream
+status
+appledoubledecodeobject
+obj
+appledoubledecodeobject
+stream
+apdecodeend
+obj
+apdecodeobj
+true
+obj
+binhexstream
+prfreeif
+obj
+binhexstream
+obj
+inbuff
+prfreeif
+obj
+inbuff
+prfreeif
+obj
+ifndef
+richiexpmac
+simplecopy
+mwcontext
+context
+savename
+closure
+plstrcpy
+closure
+savename
+endif
+public
+netstreamclass
+femakeappledoubledecodestream
+formatout
+dataobj
+urlstruct
+urls
+mwcontext
+windowid
+ifdef
+richiexpmac
+femakeappledoubledecodestream
+formatout
+dataobj
+urls
+windowid
+netstreamclass
+url
+standardfilereply
+reply
+standardputfile
+psave
+binhex
+encoded
+file
+as
+puntitled
+reply
+reply
+sfgood
+url
+mypathnamefromfsspec
+reply
+sffile
+femakeappledoubledecodestream
+formatout
+dataobj
+urls
+windowid
+url
+prfreeif
+url
+netstreamclass
+filename
+filename
+prcalloc
+filename
+femakeappledoubledecodestream
+formatout
+dataobj
+urls
+windowid
+true
+filename
+prfreeif
+filename
+endif
+endif
+public
+netstreamclass
+femakeappledoubledecodestream
+formatout
+dataobj
+urlstruct
+urls
+mwcontext
+windowid
+prbool
+writeasbinhex
+dstfilename
+appledoubledecodeobject
+obj
+netstreamclass
+stream
+tracemsg
+setting
+up
+apple
+decode
+stream
+have
+url
+urls
+address
+stream
+netstreamclass
+stream
+obj
+appledoubledecodeobject
+obj
+prfreeif
+stream
+stream
+name
+appledouble
+decode
+stream
+complete
+mkstreamcompletefunc
+netappledoubledecodecomplete
+stream
+abort
+mkstreamabortfunc
+netappledoubledecodeabort
+stream
+putblock
+mkstreamwritefunc
+netappledoubledecodewrite
+stream
+iswriteready
+mkstreamwritereadyfunc
+netappledoubledecodeready
+stream
+dataobject
+obj
+stream
+windowid
+windowid
+obj
+inbuff
+prcalloc
+obj
+inbuff
+prfreeif
+obj
+prfreeif
+stream
+obj
+bytesinbuff
+writeasbinhex
+obj
+binhexstream
+femakebinhexencodestream
+formatout
+dataobj
+urls
+windowid
+dstfilename
+obj
+binhexstream
+prfreeif
+obj
+prfreeif
+stream
+prfreeif
+obj
+inbuff
+apdecodeinit
+obj
+apdecodeobj
+false
+true
+obj
+binhexstream
+obj
+binhexstream
+apdecodeinit
+obj
+apdecodeobj
+false
+false
+windowid
+dstfilename
+richiexpstrncpysafe
+obj
+apdecodeobj
+fname
+dstfilename
+obj
+apdecodeobj
+fname
+ifdef
+richiexpmac
+obj
+apdecodeobj
+mspec
+fsspec
+urls
+fedata
+endif
+tracemsg
+returning
+stream
+from
+netappledoubledecode
+stream
+public
+netstreamclass
+femakeapplesingledecodestream
+formatout
+dataobj
+urlstruct
+urls
+mwcontext
+windowid
+ifdef
+richiexpmac
+femakeapplesingledecodestream
+formatout
+dataobj
+urls
+windowid
+false
+netstreamclass
+url
+standardfilereply
+reply
+standardputfile
+psave
+binhex
+encoded
+file
+as
+puntitled
+reply
+reply
+sfgood
+url
+mypathnamefromfsspec
+reply
+sffile
+femakeapplesingledecodestream
+formatout
+dataobj
+urls
+windowid
+url
+prfreeif
+url
+netstreamclass
+filename
+defaultpath
+defaultpath
+urls
+contentname
+ifdef
+richiexpwin
+richiexpfilenamecontainsbadchars
+defaultpath
+defaultpath
+endif
+filename
+prcalloc
+filename
+femakeapplesingledecodestream
+formatout
+dataobj
+urls
+windowid
+false
+filename
+prfreeif
+filename
+endif
+endif
+public
+netstreamclass
+femakeapplesingledecodestream
+formatout
+dataobj
+urlstruct
+urls
+mwcontext
+windowid
+prbool
+writeasbinhex
+dstfilename
+appledoubledecodeobject
+obj
+netstreamclass
+stream
+encoding
+kencodenone
+tracemsg
+setting
+up
+apple
+single
+decode
+stream
+have
+url
+urls
+address
+stream
+richiexpnew
+netstreamclass
+stream
+obj
+richiexpnew
+appledoubledecodeobject
+obj
+prfreeif
+stream
+stream
+name
+applesingle
+decode
+stream
+complete
+mkstreamcompletefunc
+netappledoubledecodecomplete
+stream
+abort
+mkstreamabortfunc
+netappledoubledecodeabort
+stream
+putblock
+mkstreamwritefunc
+netappledoubledecodewrite
+stream
+iswriteready
+mkstreamwritereadyfunc
+netappledoubledecodeready
+stream
+dataobject
+obj
+stream
+windowid
+windowid
+obj
+inbuff
+prcalloc
+obj
+inbuff
+prfreeif
+obj
+prfreeif
+stream
+obj
+bytesinbuff
+writeasbinhex
+obj
+binhexstream
+femakebinhexencodestream
+formatout
+dataobj
+urls
+windowid
+dstfilename
+obj
+binhexstream
+prfreeif
+obj
+prfreeif
+stream
+prfreeif
+obj
+inbuff
+apdecodeinit
+obj
+apdecodeobj
+true
+true
+obj
+binhexstream
+obj
+binhexstream
+apdecodeinit
+obj
+apdecodeobj
+true
+false
+windowid
+ifndef
+richiexpmac
+obj
+apdecodeobj
+isbinary
+true
+endif
+dstfilename
+richiexpstrncpysafe
+obj
+apdecodeobj
+fname
+dstfilename
+obj
+apdecodeobj
+fname
+urls
+contenttype
+richiexpstrncasecmp
+urls
+contenttype
+uuencode
+apple
+single
+obj
+apdecodeobj
+encoding
+kencodeuu
+obj
+apdecodeobj
+encoding
+kencodenone
+tracemsg
+returning
+stream
+from
+netapplesingledecode
+stream
\ No newline at end of file
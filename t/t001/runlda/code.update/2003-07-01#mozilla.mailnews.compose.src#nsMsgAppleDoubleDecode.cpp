@@ -0,0 +1,428 @@
+nsid
+nscrt
+nscore
+msgcore
+nsmsgappledouble
+nsmsgapplecodes
+nsfilespec
+nsmsgcomputils
+ifdef
+xpmac
+pragma
+warnunusedarg
+off
+mcvstrm
+pragma
+cplusplus
+on
+decodingdone
+appledoubledecodeobject
+papdecodeobj
+fsspec
+fspec
+fspec
+vrefnum
+papdecodeobj
+vrefnum
+fspec
+parid
+papdecodeobj
+dirid
+fspec
+name
+nscrt
+strlen
+papdecodeobj
+fname
+strcpy
+fspec
+name
+papdecodeobj
+fname
+cmimemapper
+mapper
+cprefs
+smimetypes
+findmimetype
+fspec
+mapper
+mapper
+getloadaction
+cmimemapper
+launch
+lfilebufferstream
+file
+fspec
+launchfile
+file
+pragma
+cplusplus
+reset
+endif
+apdecodeinit
+appledoubledecodeobject
+papdecodeobj
+prbool
+isapplesingle
+prbool
+writeasbinhex
+closure
+memset
+papdecodeobj
+appledoubledecodeobject
+papdecodeobj
+uustartsline
+true
+writeasbinhex
+papdecodeobj
+writeasbinhex
+true
+papdecodeobj
+binhexstream
+netstreamclass
+closure
+papdecodeobj
+datasize
+papdecodeobj
+writeasbinhex
+false
+papdecodeobj
+binhexstream
+papdecodeobj
+context
+mwcontext
+closure
+papdecodeobj
+isapplesingle
+isapplesingle
+isapplesingle
+papdecodeobj
+encoding
+kencodenone
+noerr
+apdecodestatemachine
+appledoubledecodeobject
+papdecodeobj
+apdecodenext
+appledoubledecodeobject
+papdecodeobj
+inbuff
+print
+buffsize
+papdecodeobj
+inbuff
+inbuff
+papdecodeobj
+sinbuff
+buffsize
+papdecodeobj
+posinbuff
+apdecodestatemachine
+papdecodeobj
+private
+apdecodestatemachine
+appledoubledecodeobject
+papdecodeobj
+status
+noerr
+print
+size
+papdecodeobj
+state
+kinit
+papdecodeobj
+sinbuff
+noerr
+papdecodeobj
+isapplesingle
+papdecodeobj
+state
+kbeginheaderportion
+status
+apseekpartstart
+papdecodeobj
+status
+errdone
+status
+papdecodeobj
+state
+kbeginparseheader
+status
+apdecodestatemachine
+papdecodeobj
+kbeginseekboundary
+papdecodeobj
+state
+kseekingboundary
+status
+apseektoboundary
+papdecodeobj
+true
+status
+errdone
+papdecodeobj
+state
+kbeginparseheader
+status
+apdecodestatemachine
+papdecodeobj
+kseekingboundary
+status
+apseektoboundary
+papdecodeobj
+false
+status
+errdone
+papdecodeobj
+state
+kbeginparseheader
+status
+apdecodestatemachine
+papdecodeobj
+kbeginparseheader
+papdecodeobj
+state
+kparsingheader
+status
+apparseheader
+papdecodeobj
+true
+status
+errdone
+papdecodeobj
+whichpart
+kdataportion
+papdecodeobj
+state
+kbegindataportion
+papdecodeobj
+whichpart
+kheaderportion
+papdecodeobj
+state
+kbeginheaderportion
+papdecodeobj
+state
+kfinishing
+status
+apdecodestatemachine
+papdecodeobj
+kparsingheader
+status
+apparseheader
+papdecodeobj
+false
+status
+errdone
+papdecodeobj
+whichpart
+kdataportion
+papdecodeobj
+state
+kbegindataportion
+papdecodeobj
+whichpart
+kheaderportion
+papdecodeobj
+state
+kbeginheaderportion
+papdecodeobj
+state
+kfinishing
+status
+apdecodestatemachine
+papdecodeobj
+kbeginheaderportion
+papdecodeobj
+state
+kprocessingheaderportion
+status
+apdecodeprocessheader
+papdecodeobj
+true
+status
+errdone
+papdecodeobj
+isapplesingle
+papdecodeobj
+state
+kbegindataportion
+papdecodeobj
+state
+kbeginseekboundary
+status
+apdecodestatemachine
+papdecodeobj
+kprocessingheaderportion
+status
+apdecodeprocessheader
+papdecodeobj
+false
+status
+errdone
+papdecodeobj
+isapplesingle
+papdecodeobj
+state
+kbegindataportion
+papdecodeobj
+state
+kbeginseekboundary
+status
+apdecodestatemachine
+papdecodeobj
+kbegindataportion
+papdecodeobj
+state
+kprocessingdataportion
+status
+apdecodeprocessdata
+papdecodeobj
+true
+status
+errdone
+papdecodeobj
+isapplesingle
+papdecodeobj
+state
+kfinishing
+papdecodeobj
+state
+kbeginseekboundary
+status
+apdecodestatemachine
+papdecodeobj
+kprocessingdataportion
+status
+apdecodeprocessdata
+papdecodeobj
+false
+status
+errdone
+papdecodeobj
+isapplesingle
+papdecodeobj
+state
+kfinishing
+papdecodeobj
+state
+kbeginseekboundary
+status
+apdecodestatemachine
+papdecodeobj
+kfinishing
+papdecodeobj
+writeasbinhex
+papdecodeobj
+tmpfd
+papdecodeobj
+tmpfilestream
+seek
+prseekset
+papdecodeobj
+datasize
+buff
+size
+prmin
+papdecodeobj
+datasize
+papdecodeobj
+tmpfilestream
+read
+buff
+size
+status
+papdecodeobj
+binhexstream
+putblock
+papdecodeobj
+binhexstream
+dataobject
+buff
+size
+papdecodeobj
+datasize
+size
+papdecodeobj
+datasize
+status
+papdecodeobj
+binhexstream
+putblock
+papdecodeobj
+binhexstream
+dataobject
+status
+noerr
+status
+errdone
+status
+noerr
+status
+erreob
+noerr
+status
+apdecodeend
+appledoubledecodeobject
+papdecodeobj
+prbool
+isaborting
+papdecodeobj
+noerr
+prfreeif
+papdecodeobj
+boundary
+ifdef
+xpmac
+papdecodeobj
+fileid
+fsclose
+papdecodeobj
+fileid
+papdecodeobj
+vrefnum
+flushvol
+nil
+papdecodeobj
+vrefnum
+endif
+papdecodeobj
+writeasbinhex
+isaborting
+papdecodeobj
+binhexstream
+abort
+papdecodeobj
+binhexstream
+dataobject
+papdecodeobj
+binhexstream
+complete
+papdecodeobj
+binhexstream
+dataobject
+papdecodeobj
+tmpfilestream
+papdecodeobj
+tmpfilestream
+close
+papdecodeobj
+tmpfilespec
+papdecodeobj
+tmpfilespec
+delete
+prfalse
+papdecodeobj
+tmpfilespec
+papdecodeobj
+filestream
+papdecodeobj
+filestream
+close
+ifdef
+xpmac
+isaborting
+decodingdone
+papdecodeobj
+endif
+noerr
\ No newline at end of file
@@ -0,0 +1,287 @@
+nsid
+nscrt
+nscore
+msgcore
+nsmsgappledouble
+nsmsgapplecodes
+nsfilespec
+nsmsgcomputils
+nscexternalhandlerservice
+nsimimeservice
+nsimimeinfo
+nsmimetypes
+prmem
+defined
+xpmac
+defined
+xpmacosx
+ifdef
+xpmac
+pragma
+warnunusedarg
+off
+pragma
+cplusplus
+on
+morefilesx
+endif
+macgetfiletype
+nsfilespec
+fs
+prbool
+usedefault
+filetype
+encoding
+fs
+filetype
+encoding
+fs
+exists
+usedefault
+true
+filetype
+encoding
+finfo
+fndrinfo
+defined
+xpmac
+oserr
+err
+fspgetfinfo
+fs
+getfsspecptr
+fndrinfo
+fsspec
+fsspec
+fspathmakefsspec
+uint
+fs
+getnativepathcstring
+fsspec
+oserr
+err
+fspgetfinfo
+fsspec
+fndrinfo
+endif
+err
+noerr
+fndrinfo
+fdtype
+text
+filetype
+nscrt
+strdup
+applicationoctetstream
+nsresult
+rv
+nsiuri
+turi
+nsnull
+nsfileurl
+tfileurl
+fs
+nssucceeded
+nsmsgnewurl
+turi
+tfileurl
+geturlstring
+turi
+nscomptr
+nsimimeservice
+mimefinder
+dogetservice
+nsmimeservicecontractid
+rv
+nssucceeded
+rv
+mimefinder
+mimetype
+nsnull
+rv
+mimefinder
+gettypefromuri
+turi
+mimetype
+nssucceeded
+rv
+mimetype
+filetype
+mimetype
+filetype
+nscrt
+strdup
+applicationoctetstream
+pragma
+cplusplus
+reset
+apencodeinit
+appledoubleencodeobject
+papencodeobj
+fname
+separator
+fsspec
+fspec
+nsfilespec
+myspec
+fname
+myspec
+exists
+defined
+xpmac
+fspec
+myspec
+getfsspec
+fspathmakefsspec
+uint
+fname
+fspec
+endif
+memset
+papencodeobj
+appledoubleencodeobject
+memcpy
+papencodeobj
+fname
+fspec
+name
+fspec
+name
+papencodeobj
+fname
+fspec
+name
+papencodeobj
+vrefnum
+fspec
+vrefnum
+papencodeobj
+dirid
+fspec
+parid
+papencodeobj
+boundary
+nscrt
+strdup
+separator
+noerr
+apencodenext
+appledoubleencodeobject
+papencodeobj
+tobuff
+print
+buffsize
+print
+realsize
+status
+papencodeobj
+outbuff
+tobuff
+papencodeobj
+soutbuff
+buffsize
+papencodeobj
+posoutbuff
+papencodeobj
+soverflow
+status
+writestream
+papencodeobj
+papencodeobj
+boverflow
+papencodeobj
+soverflow
+status
+noerr
+status
+papencodeobj
+soverflow
+papencodeobj
+state
+kinit
+status
+fillapplemimeheader
+papencodeobj
+status
+noerr
+papencodeobj
+state
+kdoingheaderportion
+status
+apencodeheader
+papencodeobj
+status
+errdone
+papencodeobj
+state
+kdoneheaderportion
+papencodeobj
+state
+kdoingdataportion
+status
+apencodedata
+papencodeobj
+status
+errdone
+papencodeobj
+state
+kdonedataportion
+status
+noerr
+kdoingheaderportion
+status
+apencodeheader
+papencodeobj
+status
+errdone
+papencodeobj
+state
+kdoneheaderportion
+papencodeobj
+state
+kdoingdataportion
+status
+apencodedata
+papencodeobj
+status
+errdone
+papencodeobj
+state
+kdonedataportion
+status
+noerr
+kdoingdataportion
+status
+apencodedata
+papencodeobj
+status
+errdone
+papencodeobj
+state
+kdonedataportion
+status
+noerr
+kdonedataportion
+status
+errdone
+realsize
+papencodeobj
+posoutbuff
+status
+apencodeend
+appledoubleencodeobject
+papencodeobj
+prbool
+isaborting
+papencodeobj
+noerr
+papencodeobj
+fileid
+fsclose
+papencodeobj
+fileid
+prfreeif
+papencodeobj
+boundary
+noerr
+endif
\ No newline at end of file
@@ -0,0 +1,278 @@
+nsmsgattachment
+nsilocalfile
+nsreadableutils
+nsnetutil
+nsimplisupports
+nsmsgattachment
+nsimsgattachment
+nsmsgattachment
+nsmsgattachment
+mtemporary
+prfalse
+nsmsgattachment
+nsmsgattachment
+mtemporary
+deleteattachment
+nsimethodimp
+nsmsgattachment
+getname
+prunichar
+aname
+nsensureargpointer
+aname
+aname
+tonewunicode
+mname
+aname
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgattachment
+setname
+prunichar
+aname
+mname
+aname
+nsok
+nsimethodimp
+nsmsgattachment
+geturl
+aurl
+nsensureargpointer
+aurl
+aurl
+tonewcstring
+murl
+aurl
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgattachment
+seturl
+aurl
+murl
+aurl
+nsok
+nsimethodimp
+nsmsgattachment
+gettemporary
+prbool
+atemporary
+nsensureargpointer
+atemporary
+atemporary
+mtemporary
+nsok
+nsimethodimp
+nsmsgattachment
+settemporary
+prbool
+atemporary
+mtemporary
+atemporary
+nsok
+nsimethodimp
+nsmsgattachment
+getcontentlocation
+acontentlocation
+nsensureargpointer
+acontentlocation
+acontentlocation
+tonewcstring
+mcontentlocation
+acontentlocation
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgattachment
+setcontentlocation
+acontentlocation
+mcontentlocation
+acontentlocation
+nsok
+nsimethodimp
+nsmsgattachment
+getcontenttype
+acontenttype
+nsensureargpointer
+acontenttype
+acontenttype
+tonewcstring
+mcontenttype
+acontenttype
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgattachment
+setcontenttype
+acontenttype
+mcontenttype
+acontenttype
+print
+offset
+mcontenttype
+findchar
+offset
+mcontenttype
+truncate
+offset
+nsok
+nsimethodimp
+nsmsgattachment
+getcontenttypeparam
+acontenttypeparam
+nsensureargpointer
+acontenttypeparam
+acontenttypeparam
+tonewcstring
+mcontenttypeparam
+acontenttypeparam
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgattachment
+setcontenttypeparam
+acontenttypeparam
+acontenttypeparam
+acontenttypeparam
+acontenttypeparam
+acontenttypeparam
+mcontenttypeparam
+acontenttypeparam
+nsok
+nsimethodimp
+nsmsgattachment
+getcharset
+acharset
+nsensureargpointer
+acharset
+acharset
+tonewcstring
+mcharset
+acharset
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgattachment
+setcharset
+acharset
+mcharset
+acharset
+nsok
+nsimethodimp
+nsmsgattachment
+getmactype
+amactype
+nsensureargpointer
+amactype
+amactype
+tonewcstring
+mmactype
+amactype
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgattachment
+setmactype
+amactype
+mmactype
+amactype
+nsok
+nsimethodimp
+nsmsgattachment
+getmaccreator
+amaccreator
+nsensureargpointer
+amaccreator
+amaccreator
+tonewcstring
+mmaccreator
+amaccreator
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgattachment
+setmaccreator
+amaccreator
+mmaccreator
+amaccreator
+nsok
+nsimethodimp
+nsmsgattachment
+equalsurl
+nsimsgattachment
+attachment
+prbool
+retval
+nsensureargpointer
+attachment
+nsensureargpointer
+retval
+nsxpidlcstring
+url
+attachment
+geturl
+gettercopies
+url
+retval
+murl
+equals
+url
+nsok
+nsresult
+nsmsgattachment
+deleteattachment
+nsresult
+rv
+prbool
+isafile
+prfalse
+nscomptr
+nsifile
+urlfile
+rv
+nsgetfilefromurlspec
+murl
+getteraddrefs
+urlfile
+nsassertion
+nssucceeded
+rv
+can
+nsifile
+from
+url
+nssucceeded
+rv
+prbool
+bexists
+prfalse
+rv
+urlfile
+exists
+bexists
+nsassertion
+nssucceeded
+rv
+exists
+call
+failed
+nssucceeded
+rv
+bexists
+rv
+urlfile
+isfile
+isafile
+nsassertion
+nssucceeded
+rv
+isfile
+call
+failed
+isafile
+rv
+urlfile
+remove
+prfalse
+rv
\ No newline at end of file
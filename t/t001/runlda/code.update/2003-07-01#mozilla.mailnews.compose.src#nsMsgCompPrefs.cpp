@@ -0,0 +1,31 @@
+nscomptr
+nsimsgmailsession
+nsimsgidentity
+nsmsgcompprefs
+nsmsgbasecid
+nsipref
+nsdefinecid
+kprefcid
+nsprefcid
+nsmsgcompprefs
+nsmsgcompprefs
+nsresult
+res
+mwrapcolumn
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefcid
+res
+nssucceeded
+res
+prefs
+res
+prefs
+getintpref
+mail
+wraplength
+mwrapcolumn
+nsmsgcompprefs
+nsmsgcompprefs nsresult
\ No newline at end of file
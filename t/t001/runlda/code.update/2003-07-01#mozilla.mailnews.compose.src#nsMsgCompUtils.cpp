@@ -0,0 +1,2698 @@
+nscomptr
+nscrt
+nsmsgcomputils
+nsipref
+prmem
+nsescape
+nsifilespec
+nsmsgsend
+nsiioservice
+nsihttpprotocolhandler
+nsmailheaders
+nsmsgin
+nsimsgheaderparser
+nsinntpservice
+nsmimetypes
+nsmsgcomposestringbundle
+nsxpidlstring
+nsreadableutils
+nsspecialsystemdirectory
+nsidocumentencoder
+nsiuri
+nsnetcid
+nsmsgprompts
+nsmsgutils
+nsmsgsimulateerror
+nsimsgcomputils
+nsimsgmdngenerator
+nsdefinecid
+kprefcid
+nsprefcid
+nsdefinecid
+kioservicecid
+nsioservicecid
+nsdefinecid
+khttphandlercid
+nshttpprotocolhandlercid
+nsimplisupports
+nsmsgcomputils
+nsimsgcomputils
+nsmsgcomputils
+nsmsgcomputils
+nsmsgcomputils
+nsmsgcomputils
+nsimethodimp
+nsmsgcomputils
+mimemakeseparator
+prefix
+retval
+nsensureargpointer
+prefix
+nsensureargpointer
+retval
+retval
+mimemakeseparator
+prefix
+nsok
+nsimethodimp
+nsmsgcomputils
+msggeneratemessageid
+nsimsgidentity
+identity
+retval
+nsensureargpointer
+identity
+nsensureargpointer
+retval
+retval
+msggeneratemessageid
+identity
+nsok
+nsimethodimp
+nsmsgcomputils
+getmsgmimeconformtostandard
+prbool
+retval
+nsensureargpointer
+retval
+retval
+nsmsgmimegetconformtostandard
+nsok
+define
+tpathlen
+nsfilespec
+nsmsgcreatetempfilespec
+tfilename
+tfilename
+tfilename
+tfilename
+nsmail
+tmp
+nsfilespec
+tmpspec
+nsfilespec
+nsspecialsystemdirectory
+nsspecialsystemdirectory
+ostemporarydirectory
+tmpspec
+nsnull
+tmpspec
+tfilename
+tmpspec
+makeunique
+tmpspec
+nsmsgcreatetempfilename
+tfilename
+tfilename
+tfilename
+tfilename
+nsmail
+tmp
+nsfilespec
+tmpspec
+nsspecialsystemdirectory
+nsspecialsystemdirectory
+ostemporarydirectory
+tmpspec
+tfilename
+tmpspec
+makeunique
+tstring
+plstrdup
+tmpspec
+getnativepathcstring
+tstring
+plstrdup
+mozmail
+tmp
+tstring
+prbool
+mimeheadersusequotedprintablep
+prfalse
+prbool
+nsmsgmimegetconformtostandard
+mimeheadersusequotedprintablep
+nsmsgmimesetconformtostandard
+prbool
+conformp
+conformp
+mimeheadersusequotedprintablep
+prtrue
+nsresult
+rv
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefcid
+rv
+nssucceeded
+rv
+prefs
+rv
+prefs
+getboolpref
+mail
+strictlymimeheaders
+mimeheadersusequotedprintablep
+nsresult
+mimesanitycheckfields
+from
+replyto
+to
+cc
+bcc
+fcc
+newsgroups
+followupto
+from
+isspace
+from
+from
+replyto
+isspace
+replyto
+replyto
+to
+isspace
+to
+to
+cc
+isspace
+cc
+cc
+bcc
+isspace
+bcc
+bcc
+fcc
+isspace
+fcc
+fcc
+newsgroups
+isspace
+newsgroups
+newsgroups
+followupto
+isspace
+followupto
+followupto
+from
+from
+checksimulatederror
+simulatedsenderror
+nsmsgnosender
+to
+to
+cc
+cc
+bcc
+bcc
+newsgroups
+newsgroups
+checksimulatederror
+simulatedsenderror
+nsmsgnorecipients
+nsok
+nsmsgstripline
+ptr
+ptr
+ptr
+ptr
+ptr
+ptr
+ptr
+ptr
+ptr
+ptr
+ptr
+ptr
+define
+uaprefprefix
+general
+useragent
+define
+encodeandpush
+name
+structured
+body
+charset
+usemime
+pushstring
+name
+convbuf
+nsmsginencodemimepartiistr
+body
+structured
+charset
+strlen
+name
+usemime
+convbuf
+pushstring
+convbuf
+prfreeif
+convbuf
+pushstring
+body
+pushnewline
+mimegenerateheaders
+nsmsgcompfields
+fields
+charset
+nsmsgdelivermode
+delivermode
+nsiprompt
+aprompt
+print
+status
+nsresult
+rv
+status
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefcid
+rv
+nsfailed
+rv
+status
+rv
+nsnull
+prbool
+usemime
+nsmsgmimegetconformtostandard
+print
+size
+buffer
+buffertail
+prbool
+isdraft
+delivermode
+nsimsgsend
+nsmsgsaveasdraft
+delivermode
+nsimsgsend
+nsmsgsaveastemplate
+delivermode
+nsimsgsend
+nsmsgqueueforlater
+pfrom
+pto
+pcc
+pmessageid
+preplyto
+porg
+pnewsgrp
+pfollow
+psubject
+ppriority
+preference
+potherhdr
+convbuf
+prbool
+hasdisclosedrecipient
+prfalse
+nscautostring
+headerbuf
+headerbuf
+truncate
+nsassertion
+fields
+fields
+fields
+nsnull
+pfrom
+fields
+getfrom
+pfrom
+headerbuf
+append
+pfrom
+preplyto
+fields
+getreplyto
+preplyto
+headerbuf
+append
+preplyto
+pto
+fields
+getto
+pto
+headerbuf
+append
+pto
+pcc
+fields
+getcc
+pcc
+headerbuf
+append
+pcc
+pnewsgrp
+fields
+getnewsgroups
+pnewsgrp
+size
+plstrlen
+pnewsgrp
+pfollow
+fields
+getfollowupto
+pfollow
+size
+plstrlen
+pfollow
+psubject
+fields
+getsubject
+psubject
+headerbuf
+append
+psubject
+preference
+fields
+getreferences
+preference
+size
+plstrlen
+preference
+porg
+fields
+getorganization
+porg
+headerbuf
+append
+porg
+potherhdr
+fields
+getotherrandomheaders
+potherhdr
+size
+plstrlen
+potherhdr
+ppriority
+fields
+getpriority
+ppriority
+size
+plstrlen
+ppriority
+pmessageid
+fields
+getmessageid
+pmessageid
+size
+plstrlen
+pmessageid
+size
+headerbuf
+length
+size
+buffer
+prmalloc
+size
+buffer
+nsnull
+buffertail
+buffer
+pmessageid
+pmessageid
+pushstring
+message
+id
+pushstring
+pmessageid
+pushnewline
+fields
+getreturnreceipt
+delivermode
+nsimsgsend
+nsmsgsaveasdraft
+delivermode
+nsimsgsend
+nsmsgsaveastemplate
+print
+receiptheadertype
+nsimsgmdngenerator
+ednttype
+fields
+getreceiptheadertype
+receiptheadertype
+receiptheadertype
+nsimsgmdngenerator
+errttype
+rrtheader
+encodeandpush
+return
+receipt
+to
+prtrue
+pfrom
+charset
+usemime
+encodeandpush
+disposition
+notification
+to
+prtrue
+pfrom
+charset
+usemime
+receiptheadertype
+nsimsgmdngenerator
+edntrrttype
+rrtheader
+ifdef
+supportxtemplatename
+delivermode
+msgsaveastemplate
+pstr
+fields
+gettemplatename
+pstr
+pstr
+pstr
+encodeandpush
+template
+prfalse
+pstr
+charset
+usemime
+endif
+prexplodedtime
+now
+prexplodetime
+prnow
+prlocaltimeparameters
+now
+gmtoffset
+now
+tmparams
+tpgmtoffset
+now
+tmparams
+tpdstoffset
+prformattimeusenglish
+buffertail
+date
+now
+buffertail
+plstrlen
+buffertail
+prsnprintf
+buffertail
+buffer
+size
+buffertail
+crlf
+gmtoffset
+gmtoffset
+gmtoffset
+gmtoffset
+gmtoffset
+gmtoffset
+gmtoffset
+buffertail
+plstrlen
+buffertail
+pfrom
+pfrom
+encodeandpush
+from
+prtrue
+pfrom
+charset
+usemime
+preplyto
+preplyto
+encodeandpush
+reply
+to
+prtrue
+preplyto
+charset
+usemime
+porg
+porg
+encodeandpush
+organization
+prfalse
+porg
+charset
+usemime
+isdraft
+pushstring
+headerxmozilladraftinfo
+pushstring
+internal
+draft
+fields
+getattachvcard
+pushstring
+vcard
+pushstring
+vcard
+pushstring
+fields
+getreturnreceipt
+print
+headertype
+fields
+getreceiptheadertype
+headertype
+type
+prsmprintf
+headertype
+type
+pushstring
+receipt
+pushstring
+type
+prfreeif
+type
+pushstring
+receipt
+pushstring
+fields
+getuuencodeattachments
+pushstring
+uuencode
+pushstring
+uuencode
+pushnewline
+nscomptr
+nsihttpprotocolhandler
+phttphandler
+dogetservice
+khttphandlercid
+rv
+nssucceeded
+rv
+phttphandler
+nscautostring
+useragentstring
+phttphandler
+getuseragent
+useragentstring
+useragentstring
+isempty
+pushstring
+user
+agent
+pushstring
+useragentstring
+get
+pushnewline
+acceptlang
+nsmsgingetacceptlanguage
+acceptlang
+acceptlang
+pushstring
+accept
+language
+pushstring
+acceptlang
+pushnewline
+pushstring
+mime
+version
+crlf
+pnewsgrp
+pnewsgrp
+duppednewsgrp
+plstrdup
+pnewsgrp
+duppednewsgrp
+prfreeif
+buffer
+nsnull
+nsmsgstripline
+duppednewsgrp
+ptr
+ptr
+ptr
+isspace
+ptr
+ptr
+ptr
+ptr
+ptr
+ptr
+ptr
+ptr
+ptr
+isspace
+ptr
+ptr
+ptr
+ptr
+plstrcpy
+ptr
+ptr
+nscomptr
+nsinntpservice
+nntpservice
+dogetservice
+messenger
+nntpservice
+nsfailed
+rv
+nntpservice
+status
+nserrorfailure
+nsnull
+nsxpidlcstring
+newsgroupsheaderval
+nsxpidlcstring
+newshostheaderval
+rv
+nntpservice
+generatenewsheadervalsforposting
+gettercopies
+newsgroupsheaderval
+gettercopies
+newshostheaderval
+nsfailed
+rv
+status
+rv
+nsnull
+pushstring
+newsgroups
+pushstring
+newsgroupsheaderval
+get
+pushnewline
+delivermode
+nsimsgsend
+nsmsgdelivernow
+delivermode
+nsimsgsend
+nsmsgsendunsent
+pushstring
+headerxmozillanewshost
+pushstring
+pushstring
+newshostheaderval
+get
+pushnewline
+prfreeif
+duppednewsgrp
+hasdisclosedrecipient
+prtrue
+pfollow
+pfollow
+duppedfollowup
+plstrdup
+pfollow
+duppedfollowup
+prfreeif
+buffer
+nsnull
+nsmsgstripline
+duppedfollowup
+ptr
+ptr
+ptr
+isspace
+ptr
+ptr
+ptr
+ptr
+ptr
+ptr
+ptr
+ptr
+ptr
+isspace
+ptr
+ptr
+ptr
+ptr
+plstrcpy
+ptr
+ptr
+pushstring
+followup
+to
+pushstring
+prfree
+duppedfollowup
+pushnewline
+pto
+pto
+encodeandpush
+to
+prtrue
+pto
+charset
+usemime
+hasdisclosedrecipient
+prtrue
+pcc
+pcc
+encodeandpush
+cc
+prtrue
+pcc
+charset
+usemime
+hasdisclosedrecipient
+prtrue
+hasdisclosedrecipient
+prbool
+baddundisclosedrecipients
+prtrue
+prefs
+getboolpref
+mail
+compose
+addundisclosedrecipients
+baddundisclosedrecipients
+baddundisclosedrecipients
+pbcc
+fields
+getbcc
+pbcc
+pbcc
+nscomptr
+nsistringbundleservice
+stringservice
+dogetservice
+nsstringbundlecontractid
+rv
+nssucceeded
+rv
+nscomptr
+nsistringbundle
+composestringbundle
+rv
+stringservice
+createbundle
+messenger
+locale
+messengercompose
+composemsgs
+properties
+getteraddrefs
+composestringbundle
+nssucceeded
+rv
+nsxpidlstring
+undisclosedrecipients
+rv
+composestringbundle
+getstringfromid
+nsmsgundisclosedrecipients
+gettercopies
+undisclosedrecipients
+nssucceeded
+rv
+undisclosedrecipients
+isempty
+cstr
+tonewcstring
+undisclosedrecipients
+cstr
+pushstring
+to
+pushstring
+cstr
+pushstring
+pushnewline
+prfree
+cstr
+psubject
+psubject
+encodeandpush
+subject
+prfalse
+psubject
+charset
+usemime
+ppriority
+ppriority
+plstrcasestr
+ppriority
+normal
+pushstring
+priority
+plstrcasestr
+ppriority
+highest
+pushstring
+plstrcasestr
+ppriority
+high
+pushstring
+plstrcasestr
+ppriority
+lowest
+pushstring
+plstrcasestr
+ppriority
+low
+pushstring
+pushstring
+ppriority
+pushstring
+pushnewline
+preference
+preference
+pushstring
+references
+plstrlen
+preference
+references
+plstrdup
+preference
+trimat
+plstrchr
+references
+ptr
+references
+plstrlen
+references
+trimat
+ptr
+plstrchr
+trimat
+ptr
+memmove
+trimat
+ptr
+plstrlen
+ptr
+nsassertion
+references
+references
+references
+pushstring
+references
+prfree
+references
+pushstring
+preference
+pushnewline
+lastref
+plstrrchr
+preference
+lastref
+pushstring
+in
+reply
+to
+pushstring
+lastref
+pushnewline
+potherhdr
+potherhdr
+pushstring
+potherhdr
+buffertail
+buffer
+size
+nsnull
+buffer
+prrealloc
+buffer
+buffertail
+buffer
+buffer
+generateglobalrandombytes
+buf
+print
+len
+prbool
+firsttime
+prtrue
+firsttime
+print
+atime
+llli
+atime
+prnow
+srand
+atime
+firsttime
+prfalse
+print
+len
+buf
+rand
+mimemakeseparator
+prefix
+randbuf
+generateglobalrandombytes
+randbuf
+prsmprintf
+prefix
+randbuf
+randbuf
+randbuf
+randbuf
+randbuf
+randbuf
+randbuf
+randbuf
+randbuf
+randbuf
+randbuf
+randbuf
+mimegenerateattachmentheaders
+type
+typeparam
+encoding
+description
+xmactype
+xmaccreator
+realname
+baseurl
+prbool
+nsmsgattachmenthandler
+attachmentcharset
+bodycharset
+prbool
+bodyisasciionly
+contentid
+prbool
+abodydocument
+nsresult
+rv
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefcid
+rv
+print
+buffersize
+realname
+plstrlen
+realname
+baseurl
+plstrlen
+baseurl
+typeparam
+plstrlen
+typeparam
+encoding
+plstrlen
+encoding
+description
+plstrlen
+description
+xmactype
+plstrlen
+xmactype
+xmaccreator
+plstrlen
+xmaccreator
+attachmentcharset
+plstrlen
+attachmentcharset
+bodycharset
+plstrlen
+bodycharset
+contentid
+plstrlen
+contentid
+buffer
+prmalloc
+buffersize
+buffertail
+buffer
+buffer
+nsassertion
+encoding
+encoding
+prbool
+usemime
+nsmsgmimegetconformtostandard
+print
+parmfolding
+nssucceeded
+rv
+prefs
+prefs
+getintpref
+mail
+strictlymime
+parmfolding
+parmfolding
+encodedrealname
+nsnull
+nsxpidlcstring
+charset
+realname
+nsconvertutftoucs
+realname
+realname
+bodycharset
+bodycharset
+nsmsgincheckdataincharsetrange
+bodycharset
+realname
+get
+charset
+assign
+bodycharset
+charset
+assign
+nsmsginfilesystemcharset
+nsmsgincheckdataincharsetrange
+charset
+get
+realname
+get
+charset
+assign
+utf
+encodedrealname
+nsmsginencodemimepartiistr
+realname
+prfalse
+charset
+get
+usemime
+encodedrealname
+encodedrealname
+prfree
+encodedrealname
+encodedrealname
+plstrdup
+realname
+charset
+assign
+us
+ascii
+qtextname
+msgmakefilenameqtext
+encodedrealname
+parmfolding
+prtrue
+prfalse
+qtextname
+prfreeif
+encodedrealname
+encodedrealname
+qtextname
+pushstring
+content
+type
+pushstring
+type
+typeparam
+typeparam
+typeparam
+pushstring
+pushstring
+typeparam
+mimetypeneedscharset
+type
+charsetlabel
+attachmentcharset
+plstrncpy
+charsetlabel
+attachmentcharset
+charsetlabel
+charsetlabel
+charsetlabel
+encoding
+plstrcasecmp
+encoding
+bit
+bodyisasciionly
+plstrcpy
+charsetlabel
+us
+ascii
+attachmentcharset
+nsmsginmultibytecharset
+attachmentcharset
+plstrcasecmp
+type
+texthtml
+plstrcasecmp
+type
+textmdl
+plstrcasecmp
+type
+textplain
+plstrcasecmp
+type
+textrichtext
+plstrcasecmp
+type
+textenriched
+plstrcasecmp
+type
+textvcard
+plstrcasecmp
+type
+applicationdirectory
+plstrcasecmp
+type
+textcss
+plstrcasecmp
+type
+textjsss
+plstrcasecmp
+encoding
+encodingbase
+charsetlabel
+pushstring
+charset
+pushstring
+charsetlabel
+abodydocument
+type
+plstrcasecmp
+type
+text
+plain
+useformatflowed
+bodycharset
+pushstring
+format
+flowed
+xmactype
+xmactype
+pushstring
+mac
+type
+pushstring
+xmactype
+pushstring
+xmaccreator
+xmaccreator
+pushstring
+mac
+creator
+pushstring
+xmaccreator
+pushstring
+ifdef
+emitnameincontenttype
+encodedrealname
+encodedrealname
+parmfolding
+parmfolding
+pushstring
+name
+pushstring
+encodedrealname
+pushstring
+rfcparm
+rfcparmfolding
+name
+charset
+get
+nsmsgingetacceptlanguage
+encodedrealname
+rfcparm
+pushstring
+pushstring
+rfcparm
+prfree
+rfcparm
+endif
+pushnewline
+pushstring
+content
+transfer
+encoding
+pushstring
+encoding
+pushnewline
+description
+description
+mimefixheader
+description
+pushstring
+content
+description
+pushstring
+pushnewline
+prfree
+contentid
+contentid
+pushstring
+content
+id
+pushstring
+contentid
+pushstring
+pushnewline
+encodedrealname
+encodedrealname
+period
+plstrrchr
+encodedrealname
+print
+prefcontentdisposition
+rv
+prefs
+getintpref
+mail
+contentdispositiontype
+prefcontentdisposition
+nsassertion
+nssucceeded
+rv
+failed
+to
+get
+mail
+contentdispositiontype
+pushstring
+content
+disposition
+prefcontentdisposition
+pushstring
+attachment
+prefcontentdisposition
+plstrcasecmp
+type
+textplain
+period
+plstrcasecmp
+period
+txt
+pushstring
+attachment
+plstrcasecmp
+type
+applicationoctetstream
+plstrcasecmp
+type
+textvcard
+plstrcasecmp
+type
+applicationdirectory
+pushstring
+attachment
+pushstring
+parmfolding
+parmfolding
+pushstring
+filename
+pushstring
+encodedrealname
+pushstring
+crlf
+rfcparm
+rfcparmfolding
+filename
+charset
+get
+nsmsgingetacceptlanguage
+encodedrealname
+rfcparm
+pushstring
+pushstring
+rfcparm
+pushnewline
+prfree
+rfcparm
+type
+plstrcasecmp
+type
+messagerfc
+plstrcasecmp
+type
+messagenews
+pushstring
+content
+disposition
+crlf
+ifdef
+generatecontentbase
+type
+plstrcasecmp
+type
+texthtml
+plstrcasecmp
+type
+textmdl
+baseurl
+baseurl
+print
+col
+baseurl
+colon
+plstrchr
+prbool
+usecontentlocation
+prfalse
+colon
+giveuponcontentbase
+plstrncasecmp
+news
+plstrncasecmp
+snews
+plstrncasecmp
+imap
+plstrncasecmp
+file
+plstrncasecmp
+mailbox
+giveuponcontentbase
+nssucceeded
+rv
+prefs
+prefs
+getboolpref
+mail
+usecontentlocationonsend
+usecontentlocation
+usecontentlocation
+pushstring
+content
+location
+pushstring
+content
+base
+contentlochack
+ot
+buffertail
+col
+pushstring
+crlf
+col
+pushstring
+pushstring
+pushstring
+pushstring
+buffertail
+buffertail
+col
+buffertail
+ot
+pushstring
+crlf
+usecontentlocation
+pushstring
+content
+location
+baseurl
+col
+usecontentlocation
+prtrue
+contentlochack
+giveuponcontentbase
+endif
+buffer
+prrealloc
+buffer
+buffertail
+buffer
+prfreeif
+encodedrealname
+buffer
+prbool
+isvalidhost
+host
+host
+host
+nscrt
+isasciialpha
+nscrt
+isasciidigit
+host
+nsnull
+nsnull
+host
+msggeneratemessageid
+nsimsgidentity
+identity
+pruint
+now
+prtime
+prnow
+prnow
+print
+microsecondspersecond
+intermediateresult
+llil
+microsecondspersecond
+prusecpersec
+lldiv
+intermediateresult
+prnow
+microsecondspersecond
+lllui
+now
+intermediateresult
+pruint
+salt
+host
+nsxpidlcstring
+forcedfqdn
+nsxpidlcstring
+from
+nsresult
+rv
+nsok
+rv
+identity
+getcharattribute
+fqdn
+gettercopies
+forcedfqdn
+nssucceeded
+rv
+forcedfqdn
+host
+forcedfqdn
+get
+isvalidhost
+host
+nsresult
+rv
+identity
+getemail
+gettercopies
+from
+nssucceeded
+rv
+from
+host
+strchr
+from
+host
+host
+isvalidhost
+host
+generateglobalrandombytes
+salt
+salt
+prsmprintf
+lx
+lx
+now
+salt
+host
+rfcparmfolding
+parmname
+charset
+language
+parmvalue
+define
+prmaxfoldinglen
+foldedparm
+dupparm
+print
+parmnamelen
+print
+parmvaluelen
+print
+charsetlen
+print
+languagelen
+prbool
+needescape
+prfalse
+nsassertion
+parmname
+parmname
+parmvalue
+parmvalue
+parameters
+parmname
+parmname
+parmvalue
+parmvalue
+charset
+charset
+plstrcasecmp
+charset
+us
+ascii
+language
+language
+plstrcasecmp
+language
+en
+plstrcasecmp
+language
+en
+us
+needescape
+prtrue
+needescape
+dupparm
+nsescape
+parmvalue
+urlpath
+dupparm
+nscrt
+strdup
+parmvalue
+dupparm
+needescape
+parmvaluelen
+plstrlen
+dupparm
+parmnamelen
+plstrlen
+parmname
+needescape
+parmnamelen
+parmnamelen
+charsetlen
+charset
+plstrlen
+charset
+languagelen
+language
+plstrlen
+language
+parmvaluelen
+parmnamelen
+charsetlen
+languagelen
+prmaxfoldinglen
+foldedparm
+plstrdup
+parmname
+needescape
+nsmsgsacat
+foldedparm
+charsetlen
+nsmsgsacat
+foldedparm
+charset
+nsmsgsacat
+foldedparm
+languagelen
+nsmsgsacat
+foldedparm
+language
+nsmsgsacat
+foldedparm
+nsmsgsacat
+foldedparm
+nsmsgsacat
+foldedparm
+dupparm
+needescape
+nsmsgsacat
+foldedparm
+done
+curlinelen
+counter
+digits
+start
+dupparm
+end
+tmp
+parmvaluelen
+curlinelen
+counter
+prfreeif
+foldedparm
+foldedparm
+plstrdup
+parmname
+needescape
+nsmsgsacat
+foldedparm
+nsmsgsacat
+foldedparm
+nsmsgsacat
+foldedparm
+parmname
+prsnprintf
+digits
+digits
+counter
+nsmsgsacat
+foldedparm
+digits
+curlinelen
+plstrlen
+digits
+needescape
+nsmsgsacat
+foldedparm
+counter
+charsetlen
+nsmsgsacat
+foldedparm
+charset
+nsmsgsacat
+foldedparm
+languagelen
+nsmsgsacat
+foldedparm
+language
+nsmsgsacat
+foldedparm
+curlinelen
+charsetlen
+curlinelen
+languagelen
+nsmsgsacat
+foldedparm
+counter
+curlinelen
+parmnamelen
+parmvaluelen
+prmaxfoldinglen
+curlinelen
+end
+start
+parmvaluelen
+end
+start
+prmaxfoldinglen
+curlinelen
+tmp
+end
+needescape
+end
+tmp
+end
+nsnull
+end
+start
+end
+end
+tmp
+end
+nsnull
+end
+start
+end
+end
+tmp
+end
+nsnull
+tmp
+end
+end
+nsnull
+tmp
+end
+end
+nsnull
+nsmsgsacat
+foldedparm
+start
+needescape
+nsmsgsacat
+foldedparm
+parmvaluelen
+end
+start
+tmp
+end
+tmp
+start
+end
+done
+nscrt
+free
+dupparm
+foldedparm
+prbool
+mimebitdatap
+pruint
+size
+prtrue
+ptr
+pruint
+size
+ptr
+xf
+prfalse
+prtrue
+mimefixheader
+prbool
+addrp
+prbool
+newsp
+newstring
+in
+out
+print
+oldsize
+newsize
+addrp
+nsresult
+rv
+nsok
+nscomptr
+nsimsgheaderparser
+pheader
+dogetservice
+nsmailnewsmimeheaderparsercontractid
+rv
+nssucceeded
+rv
+pheader
+reformatheaderaddresses
+nsnull
+oldsize
+plstrlen
+newsize
+oldsize
+oldsize
+nscrt
+cr
+nscrt
+lf
+newsize
+newstring
+prmalloc
+newsize
+newstring
+in
+out
+newstring
+isspace
+in
+in
+in
+in
+nscrt
+cr
+in
+nscrt
+lf
+in
+nscrt
+cr
+in
+nscrt
+lf
+in
+in
+out
+nscrt
+cr
+out
+nscrt
+lf
+out
+newsp
+in
+out
+in
+isspace
+in
+in
+out
+in
+out
+out
+in
+isspace
+out
+out
+newstring
+prfree
+newstring
+newstring
+newstring
+mimefixheader
+mimefixheader
+prfalse
+prfalse
+mimefixaddrheader
+mimefixheader
+prtrue
+prfalse
+mimefixnewsheader
+mimefixheader
+prfalse
+prtrue
+prbool
+mimetyperequiresbp
+type
+type
+plstrcasecmp
+type
+unknowncontenttype
+prfalse
+plstrncasecmp
+type
+image
+plstrncasecmp
+type
+audio
+plstrncasecmp
+type
+video
+plstrncasecmp
+type
+application
+appandimagetypeswhicharereallytext
+application
+mac
+binhex
+application
+pgp
+application
+pgp
+message
+application
+postscript
+application
+uuencode
+application
+uue
+application
+uue
+application
+uuencode
+application
+sgml
+application
+csh
+application
+javascript
+application
+latex
+application
+macbinhex
+application
+ns
+proxy
+autoconfig
+application
+form
+urlencoded
+application
+perl
+application
+sh
+application
+shar
+application
+tcl
+application
+tex
+application
+texinfo
+application
+troff
+application
+troff
+man
+application
+troff
+me
+application
+troff
+ms
+application
+troff
+ms
+application
+wais
+source
+image
+bitmap
+image
+pbm
+image
+pgm
+image
+portable
+anymap
+image
+portable
+bitmap
+image
+portable
+graymap
+image
+portable
+pixmap
+image
+ppm
+image
+xbitmap
+image
+xbm
+image
+xbm
+image
+xpixmap
+image
+xpm
+appandimagetypeswhicharereallytext
+plstrcasecmp
+type
+prfalse
+prtrue
+prfalse
+prbool
+mimetypeneedscharset
+type
+type
+type
+prfalse
+plstrncasecmp
+type
+text
+prtrue
+prfalse
+msgmakefilenameqtext
+srctext
+prbool
+stripcrlfs
+newstring
+prmalloc
+plstrlen
+srctext
+newstring
+srctext
+end
+srctext
+plstrlen
+srctext
+newstring
+stripcrlfs
+nscrt
+cr
+nscrt
+lf
+nscrt
+lf
+end
+isspace
+nscrt
+cr
+stripcrlfs
+nscrt
+lf
+end
+isspace
+newstring
+msgpickrealname
+nsmsgattachmenthandler
+attachment
+prunichar
+proposedname
+charset
+nsresult
+rv
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefcid
+rv
+attachment
+mrealname
+attachment
+mrealname
+proposedname
+proposedname
+attachment
+mrealname
+tonewutfstring
+nsautostring
+proposedname
+nsxpidlcstring
+url
+attachment
+murl
+getspec
+url
+url
+plstrchr
+plstrncasecmp
+url
+news
+plstrncasecmp
+url
+snews
+plstrncasecmp
+url
+imap
+plstrncasecmp
+url
+mailbox
+plstrrchr
+plstrrchr
+prfreeif
+attachment
+mrealname
+attachment
+mrealname
+plstrdup
+plstrchr
+attachment
+mrealname
+plstrchr
+attachment
+mrealname
+nsunescape
+attachment
+mrealname
+print
+parmfolding
+nssucceeded
+rv
+prefs
+prefs
+getintpref
+mail
+strictlymime
+parmfolding
+parmfolding
+parmfolding
+parmfolding
+proposedname
+proposedname
+nsautostring
+ustr
+rv
+converttounicode
+nsmsginfilesystemcharset
+attachment
+mrealname
+ustr
+nsfailed
+rv
+ustr
+assignwithconversion
+attachment
+mrealname
+attachment
+malreadyencodedp
+attachment
+mencoding
+result
+attachment
+mrealname
+print
+plstrlen
+result
+exts
+plstrcasecmp
+attachment
+mencoding
+encodinguuencode
+plstrcasecmp
+attachment
+mencoding
+encodinguuencode
+plstrcasecmp
+attachment
+mencoding
+encodinguuencode
+plstrcasecmp
+attachment
+mencoding
+encodinguuencode
+uueexts
+uu
+uue
+exts
+uueexts
+exts
+exts
+ext
+exts
+print
+plstrlen
+ext
+result
+plstrcasecmp
+ext
+result
+result
+exts
+nsresult
+nsmsgnewurl
+nsiuri
+ainstanceptrresult
+aspec
+nsresult
+rv
+nsok
+nsnull
+ainstanceptrresult
+nserrornullpointer
+nscomptr
+nsiioservice
+pnetservice
+dogetservice
+kioservicecid
+rv
+nssucceeded
+rv
+pnetservice
+plstrstr
+aspec
+nsnull
+nscautostring
+uri
+nsliteralcstring
+nsdependentcstring
+aspec
+rv
+pnetservice
+newuri
+uri
+nsnull
+nsnull
+ainstanceptrresult
+rv
+pnetservice
+newuri
+nsdependentcstring
+aspec
+nsnull
+nsnull
+ainstanceptrresult
+rv
+prbool
+nsmsgislocalfile
+url
+plstrncasecmp
+url
+file
+ifdef
+xpwin
+plstrncasecmp
+url
+file
+prfalse
+endif
+prtrue
+prfalse
+nsmsggetlocalfilefromurl
+url
+ifdef
+xpmac
+nsfileurl
+fileurl
+url
+nativepath
+fileurl
+getfilespec
+getnativepathcstring
+nscrt
+strdup
+nativepath
+finalpath
+nsassertion
+plstrncasecmp
+url
+file
+invalid
+url
+finalpath
+prmalloc
+strlen
+url
+finalpath
+strcpy
+finalpath
+url
+finalpath
+endif
+nsmsgplatformfiletourl
+nsfilespec
+afilespec
+nsfileurl
+turl
+afilespec
+tptr
+nsnull
+tptr
+turl
+geturlstring
+tptr
+plstrdup
+tptr
+nsnull
+nsmsgparseurlhost
+url
+nsiuri
+workuri
+nsnull
+nsresult
+rv
+rv
+nsmsgnewurl
+workuri
+url
+nsfailed
+rv
+workuri
+nsnull
+nscautostring
+host
+rv
+workuri
+gethost
+host
+nsifrelease
+workuri
+nsfailed
+rv
+nsnull
+tonewcstring
+host
+generatefilenamefromuri
+nsiuri
+aurl
+nsresult
+rv
+nsxpidlcstring
+file
+nsxpidlcstring
+spec
+returnstring
+cp
+nsnull
+cp
+nsnull
+rv
+aurl
+getpath
+file
+nssucceeded
+rv
+file
+newfile
+plstrdup
+file
+newfile
+nsnull
+cp
+plstrrchr
+newfile
+cp
+cp
+cp
+newfile
+cp
+cp
+plstrchr
+cp
+cp
+cp
+plstrchr
+cp
+cp
+cp
+plstrchr
+cp
+cp
+cp
+returnstring
+plstrdup
+cp
+prfreeif
+newfile
+returnstring
+nsnull
+cp
+nsnull
+cp
+nsnull
+rv
+aurl
+getspec
+spec
+nssucceeded
+rv
+spec
+newspec
+plstrdup
+spec
+newspec
+nsnull
+cp
+cp
+cp
+newspec
+cp
+cp
+cp
+plstrchr
+cp
+cp
+hoststr
+nsmsgparseurlhost
+cp
+hoststr
+hoststr
+plstrdup
+cp
+prbool
+ishttp
+prfalse
+nssucceeded
+aurl
+schemeis
+ishttp
+ishttp
+returnstring
+prsmprintf
+html
+hoststr
+prfreeif
+hoststr
+returnstring
+hoststr
+prfreeif
+newspec
+returnstring
+nsnull
+mimegencontentid
+pruint
+apartnum
+aemailaddress
+print
+randlen
+randbuf
+randbuf
+domain
+nsnull
+defaultdomain
+netscape
+memset
+randbuf
+randlen
+memset
+randbuf
+randlen
+generateglobalrandombytes
+randbuf
+randlen
+generateglobalrandombytes
+randbuf
+randlen
+aemailaddress
+aemailaddress
+domain
+nsconstcast
+plstrchr
+aemailaddress
+domain
+domain
+defaultdomain
+retval
+prsmprintf
+part
+apartnum
+randbuf
+randbuf
+randbuf
+randbuf
+randbuf
+randbuf
+randbuf
+randbuf
+domain
+retval
+getfolderurifromuserprefs
+nsmsgdelivermode
+amode
+nsimsgidentity
+identity
+nsresult
+rv
+uri
+nsnull
+amode
+nsimsgsend
+nsmsgqueueforlater
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefcid
+rv
+nsfailed
+rv
+prefs
+nsnull
+rv
+prefs
+copycharpref
+mail
+defaultsendlateruri
+uri
+nsfailed
+rv
+uri
+uri
+prsmprintf
+anyserver
+plstrchr
+uri
+nsnull
+nscautostring
+uristr
+uri
+uristr
+replacesubstring
+prfree
+uri
+uri
+plstrdup
+uristr
+get
+prefs
+setcharpref
+mail
+defaultsendlateruri
+uristr
+get
+uri
+identity
+nsnull
+amode
+nsimsgsend
+nsmsgsaveasdraft
+rv
+identity
+getdraftfolder
+uri
+amode
+nsimsgsend
+nsmsgsaveastemplate
+rv
+identity
+getstationeryfolder
+uri
+prbool
+dofcc
+prfalse
+rv
+identity
+getdofcc
+dofcc
+dofcc
+rv
+identity
+getfccfolder
+uri
+uri
+plstrdup
+uri
+nsiparser
+nsparserciid
+nsihtmltotextsink
+nsicontentsink
+nsicharsetconvertermanager
+nsdefinecid
+kcparsercid
+nsparsercid
+nsresult
+convertbuftoplaintext
+nsstring
+aconbuf
+prbool
+formatflowed
+nsresult
+rv
+nsstring
+convertedtext
+nscomptr
+nsiparser
+parser
+aconbuf
+isempty
+nsok
+rv
+nscomponentmanager
+createinstance
+kcparsercid
+nsnull
+nsgetiid
+nsiparser
+getteraddrefs
+parser
+nssucceeded
+rv
+parser
+pruint
+converterflags
+pruint
+wrapwidth
+converterflags
+nsidocumentencoder
+outputformatted
+formatflowed
+converterflags
+nsidocumentencoder
+outputformatflowed
+nscomptr
+nsicontentsink
+sink
+sink
+docreateinstance
+nsplaintextsinkcontractid
+nsensuretrue
+sink
+nserrorfailure
+nscomptr
+nsihtmltotextsink
+textsink
+doqueryinterface
+sink
+nsensuretrue
+textsink
+nserrorfailure
+textsink
+initialize
+convertedtext
+converterflags
+wrapwidth
+parser
+setcontentsink
+sink
+parser
+parse
+aconbuf
+nsliteralcstring
+text
+html
+prfalse
+prtrue
+nssucceeded
+rv
+aconbuf
+convertedtext
+rv
+nsmsgparsesubjectfromfile
+nsfilespec
+filespec
+nsifilespec
+tmpfilespec
+nsnull
+subject
+nsnull
+buffer
+ptr
+buffer
+nsnewfilespecwithspec
+filespec
+tmpfilespec
+tmpfilespec
+nsnull
+nsfailed
+tmpfilespec
+openstreamforreading
+nsnull
+prbool
+eof
+prfalse
+nssucceeded
+tmpfilespec
+eof
+eof
+eof
+prbool
+wastruncated
+prfalse
+nsfailed
+tmpfilespec
+readline
+ptr
+buffer
+wastruncated
+wastruncated
+buffer
+nscrt
+cr
+buffer
+nscrt
+lf
+buffer
+plstrncasecmp
+buffer
+subject
+subject
+nscrt
+strdup
+buffer
+tmpfilespec
+closestream
+subject
+prbool
+useformatflowed
+charset
+prbool
+sendflowed
+prtrue
+prbool
+disableforcertaincharsets
+prtrue
+nsresult
+rv
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefcid
+rv
+nsfailed
+rv
+prfalse
+prefs
+rv
+prefs
+getboolpref
+mailnews
+sendplaintextflowed
+sendflowed
+nssucceeded
+rv
+sendflowed
+prfalse
+charset
+prtrue
+rv
+prefs
+getboolpref
+mailnews
+disableformatflowedforcjk
+disableforcertaincharsets
+nssucceeded
+rv
+disableforcertaincharsets
+prtrue
+prfalse
+nscrt
+strcasecmp
+charset
+utf
+nsmsginmultibytecharset
+charset
+prfalse
+prtrue nsresult
\ No newline at end of file
@@ -0,0 +1,7411 @@
+nsmsgcompose
+nsiscriptglobalobject
+nsiscriptcontext
+nsidomnode
+nsidomnodelist
+nsidomhtmlinputelement
+nsidomhtmlimageelement
+nsidomhtmllinkelement
+nsidomhtmlanchorelement
+nsiselection
+nsiselectioncontroller
+nsidomnamednodemap
+nsmsgin
+nsicharsetconvertermanager
+nsmsgcompcid
+nsmsgquote
+nsipref
+nsidocumentencoder
+nsxpidlstring
+nsimsgheaderparser
+nsmsgcomputils
+nsimsgstringservice
+nsmsgcomposestringbundle
+nsspecialsystemdirectory
+nsmsgsend
+nsmsgcreate
+nsmailheaders
+nsmsgprompts
+nsmimetypes
+nsicharsetconvertermanager
+nstextformatter
+nsiplaintexteditor
+nsihtmleditor
+nsieditormailsupport
+nsescape
+plstr
+nsidocshell
+nsirdfservice
+nsrdfcid
+nsabbasecid
+nsiaddrdatabase
+nsiaddrbooksession
+nsiaddressbook
+nscexternalhandlerservice
+nsimimeservice
+nsidocshelltreeitem
+nsidocshelltreeowner
+nsiwindowmediator
+nsisupportsarray
+nscomarray
+nsiioservice
+nsiurl
+nsimsgmailsession
+nsmsgbasecid
+nsiprompt
+nsmsgmimecid
+nscomptr
+nsdatetimeformatcid
+nsidatetimeformat
+nsilocaleservice
+nsilocale
+nsmsgcomposeservice
+nsimsgcomposeprogressparams
+nsmsgutils
+nsimsgimapmailfolder
+nsimapcore
+nsreadableutils
+nsunicharutils
+nsnetutil
+nsmsgsimulateerror
+nsiaddrdatabase
+nsilocalfile
+nsicontentviewer
+nsimarkupdocumentviewer
+nsimsgmdngenerator
+nsdefinecid
+kioservicecid
+nsioservicecid
+nsdefinecid
+kdatetimeformatcid
+nsdatetimeformatcid
+print
+getreplyontop
+print
+replyontop
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+prefs
+prefs
+getintpref
+mailnews
+replyontop
+replyontop
+replyontop
+nsresult
+getreplyheaderinfo
+print
+replyheadertype
+prunichar
+replyheaderlocale
+prunichar
+replyheaderauthorwrote
+prunichar
+replyheaderondate
+prunichar
+replyheaderseparator
+prunichar
+replyheadercolon
+prunichar
+replyheaderoriginalmessage
+nsresult
+rv
+nserrorfailure
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+prefs
+rv
+prefs
+getintpref
+mailnews
+replyheadertype
+replyheadertype
+nsfailed
+rv
+replyheadertype
+rv
+prefs
+copyunicharpref
+mailnews
+replyheaderlocale
+replyheaderlocale
+nsfailed
+rv
+replyheaderlocale
+replyheaderlocale
+nscrt
+strdup
+nsliteralstring
+get
+rv
+prefs
+getlocalizedunicharpref
+mailnews
+replyheaderauthorwrote
+replyheaderauthorwrote
+nsfailed
+rv
+replyheaderauthorwrote
+replyheaderauthorwrote
+nscrt
+strdup
+nsliteralstring
+wrote
+get
+rv
+prefs
+copyunicharpref
+mailnews
+replyheaderondate
+replyheaderondate
+nsfailed
+rv
+replyheaderondate
+replyheaderondate
+nscrt
+strdup
+nsliteralstring
+on
+get
+rv
+prefs
+copyunicharpref
+mailnews
+replyheaderseparator
+replyheaderseparator
+nsfailed
+rv
+replyheaderseparator
+replyheaderseparator
+nscrt
+strdup
+nsliteralstring
+get
+rv
+prefs
+copyunicharpref
+mailnews
+replyheadercolon
+replyheadercolon
+nsfailed
+rv
+replyheadercolon
+replyheadercolon
+nscrt
+strdup
+nsliteralstring
+get
+rv
+prefs
+getlocalizedunicharpref
+mailnews
+replyheaderoriginalmessage
+replyheaderoriginalmessage
+nsfailed
+rv
+replyheaderoriginalmessage
+replyheaderoriginalmessage
+nscrt
+strdup
+nsliteralstring
+original
+message
+get
+rv
+nsresult
+removeduplicateaddresses
+addresses
+anothersaddresses
+prbool
+removealiasestome
+newaddress
+nsresult
+rv
+nscomptr
+nsimsgheaderparser
+parser
+dogetservice
+nsmailnewsmimeheaderparsercontractid
+parser
+rv
+parser
+removeduplicateaddresses
+utf
+addresses
+anothersaddresses
+removealiasestome
+newaddress
+rv
+nserrorfailure
+rv
+translatelineending
+nsstring
+data
+prunichar
+rptr
+prunichar
+wptr
+prunichar
+sptr
+prunichar
+eptr
+rptr
+wptr
+sptr
+nsconstcast
+prunichar
+data
+get
+eptr
+rptr
+data
+length
+rptr
+eptr
+rptr
+xd
+rptr
+eptr
+rptr
+xa
+wptr
+xa
+rptr
+wptr
+xa
+wptr
+rptr
+rptr
+wptr
+data
+setlength
+wptr
+sptr
+gettopmostmsgwindowcharacterset
+nsxpidlcstring
+charset
+prbool
+charsetoverride
+nscomptr
+nsimsgmailsession
+mailsession
+dogetservice
+nsmsgmailsessioncontractid
+mailsession
+nscomptr
+nsimsgwindow
+msgwindow
+mailsession
+gettopmostmsgwindow
+getteraddrefs
+msgwindow
+msgwindow
+nsxpidlstring
+mailcharset
+msgwindow
+getmailcharacterset
+gettercopies
+charset
+msgwindow
+getcharsetoverride
+charsetoverride
+nsmsgcompose
+nsmsgcompose
+defined
+debugducarroz
+printf
+create
+nsmsgcompose
+endif
+mquotingtofollow
+prfalse
+mwhatholder
+mwindow
+nsnull
+meditor
+nsnull
+mquotestreamlistener
+nsnull
+mcharsetoverride
+prfalse
+mcompfields
+nsnull
+mtype
+nsimsgcomptype
+new
+mconvertstructs
+prfalse
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+prefs
+prefs
+getboolpref
+converter
+htmltxt
+structs
+mconvertstructs
+mcomposehtml
+prfalse
+mrecycledwindow
+prtrue
+nsmsgcompose
+nsmsgcompose
+defined
+debugducarroz
+printf
+dispose
+nsmsgcompose
+endif
+nsifrelease
+mcompfields
+nsifrelease
+mquotestreamlistener
+nsimplisupports
+nsmsgcompose
+nsimsgcompose
+nsisupportsweakreference
+nsdefinecid
+kcharsetconvertermanagercid
+nsicharsetconvertermanagercid
+nsresult
+getchildoffset
+nsidomnode
+achild
+nsidomnode
+aparent
+print
+aoffset
+nsassertion
+achild
+aparent
+bad
+args
+nsresult
+result
+nserrornullpointer
+achild
+aparent
+nscomptr
+nsidomnodelist
+childnodes
+result
+aparent
+getchildnodes
+getteraddrefs
+childnodes
+nssucceeded
+result
+childnodes
+print
+nssucceeded
+result
+nscomptr
+nsidomnode
+childnode
+result
+childnodes
+item
+getteraddrefs
+childnode
+nssucceeded
+result
+childnode
+childnode
+get
+achild
+aoffset
+childnode
+result
+nserrornullpointer
+childnodes
+result
+nserrornullpointer
+result
+nsresult
+getnodelocation
+nsidomnode
+inchild
+nscomptr
+nsidomnode
+outparent
+print
+outoffset
+nsassertion
+outparent
+outoffset
+bad
+args
+nsresult
+result
+nserrornullpointer
+inchild
+outparent
+outoffset
+result
+inchild
+getparentnode
+getteraddrefs
+outparent
+nssucceeded
+result
+outparent
+result
+getchildoffset
+inchild
+outparent
+outoffset
+result
+prbool
+nsmsgcompose
+isembeddedobjectsafe
+originalscheme
+originalhost
+originalpath
+nsidomnode
+object
+nsresult
+rv
+nscomptr
+nsidomhtmlimageelement
+image
+nscomptr
+nsidomhtmllinkelement
+link
+nscomptr
+nsidomhtmlanchorelement
+anchor
+nsautostring
+objurl
+object
+originalscheme
+originalpath
+prfalse
+image
+doqueryinterface
+object
+nsfailed
+image
+getsrc
+objurl
+prfalse
+link
+doqueryinterface
+object
+nsfailed
+link
+gethref
+objurl
+prfalse
+anchor
+doqueryinterface
+object
+nsfailed
+anchor
+gethref
+objurl
+prfalse
+prfalse
+objurl
+isempty
+nscomptr
+nsiuri
+uri
+rv
+nsnewuri
+getteraddrefs
+uri
+objurl
+nssucceeded
+rv
+uri
+nscautostring
+scheme
+rv
+uri
+getscheme
+scheme
+nssucceeded
+rv
+nscrt
+strcasecmp
+scheme
+get
+originalscheme
+nscautostring
+host
+rv
+uri
+getasciihost
+host
+nssucceeded
+rv
+host
+isempty
+originalhost
+nscrt
+strcasecmp
+host
+get
+originalhost
+nscautostring
+path
+rv
+uri
+getpath
+path
+nssucceeded
+rv
+query
+strrchr
+path
+get
+query
+nscrt
+strncasecmp
+path
+get
+originalpath
+query
+path
+get
+prtrue
+prfalse
+nsresult
+nsmsgcompose
+tagembeddedobjects
+nsieditormailsupport
+aeditor
+nsresult
+rv
+nsok
+nscomptr
+nsisupportsarray
+anodelist
+pruint
+count
+pruint
+aeditor
+nserrorfailure
+rv
+aeditor
+getembeddedobjects
+getteraddrefs
+anodelist
+nsfailed
+rv
+anodelist
+nserrorfailure
+nsfailed
+anodelist
+count
+count
+nserrorfailure
+nscomptr
+nsidomnode
+node
+nscomptr
+nsiuri
+originalurl
+nsxpidlcstring
+originalscheme
+nsxpidlcstring
+originalhost
+nsxpidlcstring
+originalpath
+nscomptr
+nsimsgmessageservice
+msgservice
+rv
+getmessageservicefromuri
+mquoteuri
+get
+getteraddrefs
+msgservice
+nssucceeded
+rv
+rv
+msgservice
+geturlforuri
+mquoteuri
+get
+getteraddrefs
+originalurl
+nsnull
+nssucceeded
+rv
+originalurl
+originalurl
+getscheme
+originalscheme
+originalurl
+getasciihost
+originalhost
+originalurl
+getpath
+originalpath
+nscomptr
+nsidomelement
+domelement
+count
+node
+doqueryelementat
+anodelist
+node
+isembeddedobjectsafe
+originalscheme
+get
+originalhost
+get
+originalpath
+get
+node
+domelement
+doqueryinterface
+node
+domelement
+domelement
+setattribute
+nsliteralstring
+moz
+send
+nsliteralstring
+nsok
+nsimethodimp
+nsmsgcompose
+convertandloadcomposewindow
+nsstring
+aprefix
+nsstring
+abuf
+nsstring
+asignature
+prbool
+aquoted
+prbool
+ahtmleditor
+nsassertion
+meditor
+convertandloadcomposewindow
+but
+no
+editor
+meditor
+nserrorfailure
+nscomptr
+nsidomnode
+nodeinserted
+translatelineending
+aprefix
+translatelineending
+abuf
+translatelineending
+asignature
+pruint
+flags
+meditor
+getflags
+flags
+flags
+nsiplaintexteditor
+eeditorreadonlymask
+meditor
+setflags
+flags
+meditor
+enableundo
+prfalse
+nscomptr
+nsihtmleditor
+htmleditor
+doqueryinterface
+meditor
+nscomptr
+nsiplaintexteditor
+texteditor
+doqueryinterface
+meditor
+nscomptr
+nsieditormailsupport
+maileditor
+doqueryinterface
+meditor
+meditor
+begintransaction
+aquoted
+aprefix
+isempty
+ahtmleditor
+htmleditor
+htmleditor
+inserthtml
+aprefix
+texteditor
+texteditor
+inserttext
+aprefix
+meditor
+endofdocument
+abuf
+isempty
+maileditor
+ahtmleditor
+mcitereference
+isempty
+maileditor
+insertascitedquotation
+abuf
+mcitereference
+prtrue
+getteraddrefs
+nodeinserted
+maileditor
+insertasquotation
+abuf
+getteraddrefs
+nodeinserted
+meditor
+endofdocument
+tagembeddedobjects
+maileditor
+asignature
+isempty
+ahtmleditor
+htmleditor
+htmleditor
+inserthtml
+asignature
+texteditor
+texteditor
+inserttext
+asignature
+ahtmleditor
+htmleditor
+abuf
+isempty
+print
+start
+print
+end
+nsautostring
+bodyattributes
+start
+abuf
+find
+body
+prtrue
+start
+knotfound
+abuf
+start
+start
+end
+abuf
+findchar
+start
+end
+knotfound
+prunichar
+data
+abuf
+get
+bodyattributes
+adopt
+nscrt
+strndup
+data
+start
+end
+start
+htmleditor
+inserthtml
+abuf
+meditor
+endofdocument
+setbodyattributes
+bodyattributes
+asignature
+isempty
+htmleditor
+inserthtml
+asignature
+texteditor
+abuf
+isempty
+maileditor
+maileditor
+inserttextwithquotations
+abuf
+texteditor
+inserttext
+abuf
+meditor
+endofdocument
+asignature
+isempty
+texteditor
+inserttext
+asignature
+meditor
+endtransaction
+meditor
+abuf
+isempty
+meditor
+beginningofdocument
+getreplyontop
+texteditor
+meditor
+beginningofdocument
+nscomptr
+nsiselection
+selection
+nsnull
+nscomptr
+nsidomnode
+parent
+nsnull
+print
+offset
+nsresult
+rv
+rv
+getnodelocation
+nodeinserted
+addressof
+parent
+offset
+nsfailed
+rv
+parent
+meditor
+beginningofdocument
+meditor
+getselection
+getteraddrefs
+selection
+selection
+meditor
+beginningofdocument
+selection
+collapse
+parent
+offset
+texteditor
+insertlinebreak
+selection
+collapse
+parent
+offset
+meditor
+selectall
+meditor
+beginningofdocument
+nscomptr
+nsiselectioncontroller
+selcon
+meditor
+getselectioncontroller
+getteraddrefs
+selcon
+selcon
+selcon
+scrollselectionintoview
+nsiselectioncontroller
+selectionnormal
+nsiselectioncontroller
+selectionanchorregion
+prtrue
+meditor
+meditor
+enableundo
+prtrue
+setbodymodified
+prfalse
+ifdef
+msgcomptraceperformance
+nscomptr
+nsimsgcomposeservice
+composeservice
+dogetservice
+nsmsgcomposeservicecontractid
+composeservice
+timestamp
+finished
+inserting
+data
+into
+the
+editor
+the
+window
+is
+ready
+prfalse
+endif
+nsok
+nsresult
+nsmsgcompose
+setquotingtofollow
+prbool
+aval
+mquotingtofollow
+aval
+nsok
+nsimethodimp
+nsmsgcompose
+getquotingtofollow
+prbool
+quotingtofollow
+nsensurearg
+quotingtofollow
+quotingtofollow
+mquotingtofollow
+nsok
+nsimethodimp
+nsmsgcompose
+initialize
+nsidomwindowinternal
+awindow
+nsimsgcomposeparams
+params
+nsensureargpointer
+params
+nsresult
+rv
+params
+getidentity
+getteraddrefs
+midentity
+awindow
+mwindow
+awindow
+nscomptr
+nsidocshell
+docshell
+nscomptr
+nsiscriptglobalobject
+globalobj
+doqueryinterface
+awindow
+globalobj
+nserrorfailure
+globalobj
+getdocshell
+getteraddrefs
+docshell
+nscomptr
+nsidocshelltreeitem
+treeitem
+doqueryinterface
+docshell
+nscomptr
+nsidocshelltreeowner
+treeowner
+rv
+treeitem
+gettreeowner
+getteraddrefs
+treeowner
+nsfailed
+rv
+rv
+mbasewindow
+doqueryinterface
+treeowner
+docshell
+setapptype
+nsidocshell
+apptypemail
+msgcomposeformat
+format
+params
+getformat
+format
+msgcomposetype
+type
+params
+gettype
+type
+nsxpidlcstring
+originalmsguri
+params
+getoriginalmsguri
+gettercopies
+originalmsguri
+nscomptr
+nsimsgcompfields
+composefields
+params
+getcomposefields
+getteraddrefs
+composefields
+nscomptr
+nsimsgcomposeservice
+composeservice
+dogetservice
+nsmsgcomposeservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+composeservice
+determinecomposehtml
+midentity
+format
+mcomposehtml
+nsensuresuccess
+rv
+rv
+midentity
+composefields
+prbool
+requestreturnreceipt
+prfalse
+rv
+midentity
+getrequestreturnreceipt
+requestreturnreceipt
+nsensuresuccess
+rv
+rv
+rv
+composefields
+setreturnreceipt
+requestreturnreceipt
+nsensuresuccess
+rv
+rv
+print
+receipttype
+nsimsgmdngenerator
+ednttype
+rv
+midentity
+getreceiptheadertype
+receipttype
+nsensuresuccess
+rv
+rv
+rv
+composefields
+setreceiptheadertype
+receipttype
+nsensuresuccess
+rv
+rv
+params
+getsendlistener
+getteraddrefs
+mexternalsendlistener
+nsxpidlcstring
+smtppassword
+params
+getsmtppassword
+gettercopies
+smtppassword
+msmtppassword
+smtppassword
+createmessage
+originalmsguri
+type
+composefields
+nsresult
+nsmsgcompose
+setdocumentcharset
+charset
+mcompfields
+setcharacterset
+charset
+meditor
+setdocumentcharacterset
+nsdependentcstring
+charset
+nsok
+nsresult
+nsmsgcompose
+registerstatelistener
+nsimsgcomposestatelistener
+statelistener
+nsresult
+rv
+nsok
+statelistener
+nserrornullpointer
+mstatelisteners
+rv
+nsnewisupportsarray
+getteraddrefs
+mstatelisteners
+nsfailed
+rv
+rv
+nscomptr
+nsisupports
+isupports
+doqueryinterface
+statelistener
+rv
+nsfailed
+rv
+rv
+mstatelisteners
+appendelement
+isupports
+nsresult
+nsmsgcompose
+unregisterstatelistener
+nsimsgcomposestatelistener
+statelistener
+statelistener
+nserrornullpointer
+nsresult
+rv
+nsok
+mstatelisteners
+nsresult
+prfalse
+nscomptr
+nsisupports
+isupports
+doqueryinterface
+statelistener
+rv
+nsfailed
+rv
+rv
+mstatelisteners
+removeelement
+isupports
+nsresult
+nsmsgcompose
+sendmsg
+msgdelivermode
+delivermode
+nsimsgidentity
+identity
+prbool
+entityconversiondone
+nsresult
+rv
+nsok
+mcompfields
+identity
+nsxpidlcstring
+email
+nsxpidlstring
+fullname
+nsxpidlstring
+organization
+identity
+getemail
+gettercopies
+email
+identity
+getfullname
+gettercopies
+fullname
+identity
+getorganization
+gettercopies
+organization
+sender
+nsnull
+nscomptr
+nsimsgheaderparser
+parser
+dogetservice
+nsmailnewsmimeheaderparsercontractid
+parser
+parser
+makefulladdress
+nsnull
+nsconvertucstoutf
+fullname
+get
+email
+sender
+sender
+mcompfields
+setfrom
+email
+mcompfields
+setfrom
+sender
+prfreeif
+sender
+mcompfields
+setorganization
+organization
+defined
+debugducarroz
+defined
+debugseth
+printf
+printf
+sending
+mail
+message
+printf
+printf
+from
+mcompfields
+getfrom
+printf
+to
+cc
+bcc
+mcompfields
+getto
+mcompfields
+getcc
+mcompfields
+getbcc
+printf
+newsgroups
+mcompfields
+getnewsgroups
+printf
+subject
+nmsg
+mcompfields
+getsubject
+mcompfields
+getbody
+nscomptr
+nsisupportsarray
+attachmentsarray
+mcompfields
+getattachmentsarray
+getteraddrefs
+attachmentsarray
+attachmentsarray
+pruint
+pruint
+attachmentcount
+attachmentsarray
+count
+attachmentcount
+nscomptr
+nsimsgattachment
+element
+attachmentcount
+attachmentsarray
+queryelementat
+nsgetiid
+nsimsgattachment
+getteraddrefs
+element
+element
+nsxpidlstring
+name
+nsxpidlcstring
+url
+nsxpidlcstring
+namecstr
+element
+getname
+gettercopies
+name
+namecstr
+adopt
+tonewcstring
+name
+element
+geturl
+gettercopies
+url
+printf
+attachment
+namecstr
+get
+url
+get
+printf
+endif
+mmsgsend
+docreateinstance
+nsmsgsendcontractid
+mmsgsend
+prbool
+newbody
+prfalse
+bodystring
+mcompfields
+getbody
+print
+bodylength
+attachmenttype
+texthtml
+entityconversiondone
+outcstring
+bodystring
+bodystring
+prbool
+isasciionly
+rv
+nsmsginsaveascharset
+attachmenttype
+mcompfields
+getcharacterset
+nsconvertasciitoucs
+bodystring
+get
+outcstring
+nsnull
+isasciionly
+nssucceeded
+rv
+mcompfields
+setbodyisasciionly
+isasciionly
+bodystring
+outcstring
+newbody
+prtrue
+bodylength
+plstrlen
+bodystring
+nscomptr
+nsimsgcomposesendlistener
+composesendlistener
+docreateinstance
+nsmsgcomposesendlistenercontractid
+composesendlistener
+nserroroutofmemory
+composesendlistener
+setmsgcompose
+composesendlistener
+setdelivermode
+delivermode
+mprogress
+nscomptr
+nsiwebprogresslistener
+progresslistener
+doqueryinterface
+composesendlistener
+mprogress
+registerlistener
+progresslistener
+nscomptr
+nsimsgsendlistener
+sendlistener
+doqueryinterface
+composesendlistener
+rv
+mmsgsend
+createandsendmessage
+mcomposehtml
+meditor
+get
+nsnull
+identity
+mcompfields
+prfalse
+prfalse
+nsmsgdelivermode
+delivermode
+nsnull
+mcomposehtml
+texthtml
+textplain
+bodystring
+bodylength
+nsnull
+nsnull
+nsnull
+mwindow
+mprogress
+sendlistener
+msmtppassword
+get
+newbody
+prfreeif
+bodystring
+rv
+nserrorfailure
+rv
+nserrornotinitialized
+nsfailed
+rv
+notifystatelisteners
+ecomposeprocessdone
+rv
+rv
+nsimethodimp
+nsmsgcompose
+sendmsg
+msgdelivermode
+delivermode
+nsimsgidentity
+identity
+nsimsgprogress
+progress
+nsresult
+rv
+nsok
+prbool
+entityconversiondone
+prfalse
+nscomptr
+nsiprompt
+prompt
+prompt
+mwindow
+mwindow
+getprompter
+getteraddrefs
+prompt
+meditor
+mcompfields
+mcomposehtml
+mcompfields
+setbody
+nsnull
+contenttype
+text
+plain
+nsautostring
+msgbody
+nsautostring
+format
+format
+assignwithconversion
+contenttype
+pruint
+flags
+nsidocumentencoder
+outputformatted
+charset
+mcompfields
+getcharacterset
+useformatflowed
+charset
+flags
+nsidocumentencoder
+outputformatflowed
+rv
+meditor
+outputtostring
+format
+flags
+msgbody
+nssucceeded
+rv
+msgbody
+isempty
+outcstring
+nsnull
+nsxpidlcstring
+fallbackcharset
+prbool
+isasciionly
+rv
+nsmsginsaveascharset
+contenttype
+mcompfields
+getcharacterset
+msgbody
+get
+outcstring
+gettercopies
+fallbackcharset
+isasciionly
+setsimulatederror
+simulatedsenderror
+rv
+nserroruencnomapping
+nssucceeded
+rv
+nsnull
+outcstring
+nserroruencnomapping
+rv
+prbool
+proceedthesend
+rv
+nsmsgaskbooleanquestionbyid
+prompt
+nserrormsgmultilingualsend
+proceedthesend
+proceedthesend
+prfreeif
+outcstring
+nserrormsgmultilingualsend
+fallbackcharset
+mcompfields
+setcharacterset
+fallbackcharset
+get
+mcompfields
+setbodyisasciionly
+isasciionly
+mcompfields
+setbody
+outcstring
+entityconversiondone
+prtrue
+prfree
+outcstring
+nscautostring
+msgbodyc
+msgbodyc
+assignwithconversion
+msgbody
+mcompfields
+setbody
+msgbodyc
+get
+progress
+mprogress
+progress
+nsxpidlstring
+msgsubject
+mcompfields
+getsubject
+gettercopies
+msgsubject
+prbool
+showprogress
+prfalse
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+prefs
+prefs
+getboolpref
+mailnews
+showsendprogress
+showprogress
+showprogress
+nscomptr
+nsimsgcomposeprogressparams
+params
+docreateinstance
+nsmsgcomposeprogressparamscontractid
+rv
+nsfailed
+rv
+params
+nserrorfailure
+params
+setsubject
+prunichar
+msgsubject
+params
+setdeliverymode
+delivermode
+mprogress
+openprogressdialog
+mwindow
+messenger
+content
+messengercompose
+sendprogress
+xul
+params
+mprogress
+getprompter
+getteraddrefs
+prompt
+mprogress
+onstatechange
+nsnull
+nsnull
+nsiwebprogresslistener
+statestart
+nsok
+rv
+sendmsg
+delivermode
+identity
+entityconversiondone
+nsfailed
+rv
+nscomptr
+nsimsgsendreport
+sendreport
+mmsgsend
+mmsgsend
+getsendreport
+getteraddrefs
+sendreport
+sendreport
+nsresult
+theerror
+sendreport
+displayreport
+prompt
+prtrue
+prtrue
+theerror
+delivermode
+nsimsgcompdelivermode
+later
+nsmsgdisplaymessagebyid
+prompt
+nsmsgunabletosendlater
+nsimsgcompdelivermode
+saveasdraft
+nsmsgdisplaymessagebyid
+prompt
+nsmsgunabletosavedraft
+nsimsgcompdelivermode
+saveastemplate
+nsmsgdisplaymessagebyid
+prompt
+nsmsgunabletosavetemplate
+nsmsgdisplaymessagebyid
+prompt
+nserrorsendfailed
+progress
+progress
+closeprogressdialog
+prtrue
+rv
+nsimethodimp
+nsmsgcompose
+setrecyclinglistener
+nsimsgcomposerecyclinglistener
+arecyclinglistener
+mrecyclinglistener
+arecyclinglistener
+nsok
+nsimethodimp
+nsmsgcompose
+getrecyclinglistener
+nsimsgcomposerecyclinglistener
+arecyclinglistener
+nsensureargpointer
+arecyclinglistener
+arecyclinglistener
+mrecyclinglistener
+nsifaddref
+arecyclinglistener
+nsok
+nsimethodimp
+nsmsgcompose
+getrecycledwindow
+prbool
+arecycledwindow
+nsensureargpointer
+arecycledwindow
+arecycledwindow
+mrecycledwindow
+nsok
+nsimethodimp
+nsmsgcompose
+setrecycledwindow
+prbool
+arecycledwindow
+mrecycledwindow
+arecycledwindow
+nsok
+defined
+xpmac
+prbool
+nsmsgcompose
+islastwindow
+nsresult
+rv
+prbool
+more
+nscomptr
+nsiwindowmediator
+windowmediator
+dogetservice
+nswindowmediatorcontractid
+rv
+nssucceeded
+rv
+nscomptr
+nsisimpleenumerator
+windowenumerator
+rv
+windowmediator
+getenumerator
+nsnull
+getteraddrefs
+windowenumerator
+nssucceeded
+rv
+nscomptr
+nsisupports
+isupports
+nssucceeded
+windowenumerator
+getnext
+getteraddrefs
+isupports
+nssucceeded
+windowenumerator
+hasmoreelements
+more
+more
+prtrue
+endif
+nsimethodimp
+nsmsgcompose
+closewindow
+prbool
+recycleit
+nsresult
+rv
+nscomptr
+nsimsgcomposeservice
+composeservice
+dogetservice
+nsmsgcomposeservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+defined
+xpmac
+recycleit
+recycleit
+islastwindow
+endif
+recycleit
+rv
+composeservice
+cachewindow
+mwindow
+mcomposehtml
+mrecyclinglistener
+nssucceeded
+rv
+nsassertion
+meditor
+no
+editor
+meditor
+rv
+meditor
+enableundo
+prfalse
+nsensuresuccess
+rv
+rv
+rv
+meditor
+begintransaction
+nsensuresuccess
+rv
+rv
+rv
+meditor
+selectall
+nsensuresuccess
+rv
+rv
+rv
+meditor
+deleteselection
+nsensuresuccess
+rv
+rv
+rv
+meditor
+endtransaction
+nsensuresuccess
+rv
+rv
+rv
+meditor
+enableundo
+prtrue
+nsensuresuccess
+rv
+rv
+setbodymodified
+prfalse
+mrecyclinglistener
+mrecyclinglistener
+onclose
+nscomptr
+nsiscriptglobalobject
+sgo
+doqueryinterface
+mwindow
+sgo
+nscomptr
+nsiscriptcontext
+scriptcontext
+sgo
+getcontext
+getteraddrefs
+scriptcontext
+scriptcontext
+scriptcontext
+gc
+nsok
+mbasewindow
+meditor
+meditor
+nsnull
+nsibasewindow
+awindow
+mbasewindow
+mbasewindow
+nsnull
+rv
+awindow
+destroy
+rv
+nsresult
+nsmsgcompose
+abort
+mmsgsend
+mmsgsend
+abort
+mprogress
+mprogress
+closeprogressdialog
+prtrue
+nsok
+nsresult
+nsmsgcompose
+geteditor
+nsieditor
+aeditor
+nsifaddref
+aeditor
+meditor
+nsok
+nsresult
+nsmsgcompose
+cleareditor
+meditor
+nsnull
+nsok
+nsimethodimp
+nsmsgcompose
+initeditor
+nsieditor
+aeditor
+nsidomwindow
+acontentwindow
+nsensureargpointer
+aeditor
+nsensureargpointer
+acontentwindow
+meditor
+aeditor
+nsdependentcstring
+msgcharset
+mcompfields
+getcharacterset
+meditor
+setdocumentcharacterset
+msgcharset
+nscomptr
+nsiscriptglobalobject
+globalobj
+doqueryinterface
+mwindow
+nscomptr
+nsidocshell
+docshell
+globalobj
+getdocshell
+getteraddrefs
+docshell
+nsensuretrue
+docshell
+nserrorunexpected
+nscomptr
+nsicontentviewer
+childcv
+nsensuresuccess
+docshell
+getcontentviewer
+getteraddrefs
+childcv
+nserrorfailure
+childcv
+nscomptr
+nsimarkupdocumentviewer
+markupcv
+doqueryinterface
+childcv
+markupcv
+nsensuresuccess
+markupcv
+setdefaultcharacterset
+msgcharset
+nserrorfailure
+nsensuresuccess
+markupcv
+setforcecharacterset
+msgcharset
+nserrorfailure
+prbool
+quotingtofollow
+prfalse
+getquotingtofollow
+quotingtofollow
+quotingtofollow
+buildquotedmessageandsignature
+notifystatelisteners
+ecomposefieldsready
+nsok
+buildbodymessageandsignature
+nsresult
+nsmsgcompose
+getbodymodified
+prbool
+modified
+nsresult
+rv
+modified
+nserrornullpointer
+modified
+prtrue
+meditor
+rv
+meditor
+getdocumentmodified
+modified
+nsfailed
+rv
+modified
+prtrue
+nsok
+nsresult
+nsmsgcompose
+setbodymodified
+prbool
+modified
+nsresult
+rv
+nsok
+meditor
+modified
+print
+modcount
+meditor
+getmodificationcount
+modcount
+modcount
+meditor
+incrementmodificationcount
+meditor
+resetmodificationcount
+rv
+nsresult
+nsmsgcompose
+getdomwindow
+nsidomwindowinternal
+adomwindow
+adomwindow
+mwindow
+nsifaddref
+adomwindow
+nsok
+nsresult
+nsmsgcompose
+getcompfields
+nsimsgcompfields
+acompfields
+acompfields
+nsimsgcompfields
+mcompfields
+nsifaddref
+acompfields
+nsok
+nsimethodimp
+nsmsgcompose
+getcomposehtml
+prbool
+acomposehtml
+acomposehtml
+mcomposehtml
+nsok
+nsresult
+nsmsgcompose
+getwraplength
+print
+awraplength
+nsresult
+rv
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+rv
+prefs
+getintpref
+mailnews
+wraplength
+awraplength
+nsresult
+nsmsgcompose
+createmessage
+originalmsguri
+msgcomposetype
+type
+nsimsgcompfields
+compfields
+nsresult
+rv
+nsok
+mtype
+type
+compfields
+nsifrelease
+mcompfields
+mcompfields
+nsreinterpretcast
+nsmsgcompfields
+compfields
+nsaddref
+mcompfields
+nsnewxpcom
+mcompfields
+nsmsgcompfields
+mcompfields
+nsaddref
+mcompfields
+nserroroutofmemory
+midentity
+nsxpidlcstring
+constiterator
+start
+end
+nsxpidlcstring
+replyto
+midentity
+getreplyto
+gettercopies
+replyto
+replyto
+replyto
+nsxpidlcstring
+replytostr
+replytostr
+assign
+mcompfields
+getreplyto
+replytostr
+beginreading
+start
+replytostr
+endreading
+end
+findinreadable
+replyto
+start
+end
+prfalse
+replytostr
+length
+replytostr
+append
+replytostr
+append
+replyto
+mcompfields
+setreplyto
+replytostr
+get
+prbool
+dobcc
+midentity
+getdobcc
+dobcc
+dobcc
+nsxpidlcstring
+bccstr
+bccstr
+assign
+mcompfields
+getbcc
+bccstr
+beginreading
+start
+bccstr
+endreading
+end
+nsxpidlcstring
+bcclist
+midentity
+getdobcclist
+gettercopies
+bcclist
+findinreadable
+bcclist
+start
+end
+prfalse
+bccstr
+length
+bccstr
+append
+bccstr
+append
+bcclist
+mcompfields
+setbcc
+bccstr
+get
+originalmsguri
+originalmsguri
+rv
+moriginalmsguri
+originalmsguri
+type
+nsimsgcomptype
+forwardinline
+rv
+urilist
+plstrdup
+originalmsguri
+urilist
+nserroroutofmemory
+nscomptr
+nsimimeconverter
+mimeconverter
+dogetservice
+nsmimeconvertercontractid
+nsxpidlcstring
+charset
+nsxpidlcstring
+mailcharset
+prbool
+charsetoverride
+prfalse
+gettopmostmsgwindowcharacterset
+mailcharset
+mcharsetoverride
+mailcharset
+isempty
+charset
+mailcharset
+charsetoverride
+prtrue
+prbool
+isfirstpass
+prtrue
+uri
+urilist
+nexturi
+nexturi
+strstr
+uri
+nexturi
+nexturi
+strstr
+nexturi
+nexturi
+nexturi
+savenexturi
+nexturi
+nexturi
+strrchr
+uri
+nexturi
+nexturi
+savenexturi
+nscomptr
+nsimsgdbhdr
+msghdr
+rv
+getmsgdbhdrfromuri
+uri
+getteraddrefs
+msghdr
+nsensuresuccess
+rv
+rv
+msghdr
+nsxpidlcstring
+subject
+nsxpidlstring
+decodedstring
+nsxpidlcstring
+decodedcstring
+charsetoverride
+rv
+msghdr
+getcharset
+gettercopies
+charset
+nsfailed
+rv
+rv
+isfirstpass
+charset
+isempty
+mcompfields
+setcharacterset
+charset
+rv
+msghdr
+getsubject
+gettercopies
+subject
+nsfailed
+rv
+rv
+nsacstring
+constiterator
+wasstart
+wasend
+subject
+beginreading
+wasstart
+subject
+endreading
+wasend
+prbool
+wasfound
+rfindinreadable
+nsliteralcstring
+was
+wasstart
+wasend
+prbool
+strip
+prtrue
+wasfound
+pruint
+numref
+msghdr
+getnumreferences
+numref
+numref
+nscomptr
+nsimsgfolder
+folder
+msghdr
+getfolder
+getteraddrefs
+folder
+folder
+nscomptr
+nsimsgdatabase
+db
+folder
+getmsgdatabase
+nsnull
+getteraddrefs
+db
+db
+nscautostring
+reference
+msghdr
+getstringreference
+reference
+nscomptr
+nsimsgdbhdr
+refhdr
+db
+getmsghdrformessageid
+reference
+get
+getteraddrefs
+refhdr
+refhdr
+nsxpidlcstring
+refsubject
+rv
+refhdr
+getsubject
+gettercopies
+refsubject
+nssucceeded
+rv
+nsacstring
+constiterator
+start
+end
+refsubject
+beginreading
+start
+refsubject
+endreading
+end
+findinreadable
+nsliteralcstring
+was
+start
+end
+strip
+prfalse
+strip
+prfalse
+strip
+wasfound
+nsacstring
+constiterator
+start
+subject
+beginreading
+start
+subject
+assign
+substring
+start
+wasstart
+type
+nsimsgcomptype
+reply
+nsimsgcomptype
+replyall
+nsimsgcomptype
+replytogroup
+nsimsgcomptype
+replytosender
+nsimsgcomptype
+replytosenderandgroup
+isfirstpass
+prfree
+urilist
+rv
+mquotingtofollow
+prtrue
+nscautostring
+subjectstr
+re
+subjectstr
+append
+subject
+rv
+mimeconverter
+decodemimeheader
+subjectstr
+get
+gettercopies
+decodedstring
+charset
+charsetoverride
+nssucceeded
+rv
+mcompfields
+setsubject
+decodedstring
+mcompfields
+setsubject
+subjectstr
+get
+nsxpidlcstring
+author
+rv
+msghdr
+getauthor
+gettercopies
+author
+nsfailed
+rv
+rv
+rv
+mimeconverter
+decodemimeheader
+author
+gettercopies
+decodedcstring
+charset
+charsetoverride
+nssucceeded
+rv
+decodedcstring
+mcompfields
+setto
+decodedcstring
+mcompfields
+setto
+author
+mwhatholder
+mquoteuri
+originalmsguri
+nsimsgcomptype
+forwardasattachment
+nsautostring
+decodedsubject
+pruint
+flags
+msghdr
+getflags
+flags
+nscautostring
+subjectstr
+flags
+msgflaghasre
+subjectstr
+assign
+re
+subjectstr
+append
+subject
+rv
+mimeconverter
+decodemimeheader
+subjectstr
+get
+gettercopies
+decodedstring
+charset
+charsetoverride
+nssucceeded
+rv
+decodedsubject
+assign
+decodedstring
+decodedsubject
+assignwithconversion
+subjectstr
+get
+mquotingtofollow
+prfalse
+nscomptr
+nsimsgattachment
+attachment
+docreateinstance
+nsmsgattachmentcontractid
+rv
+nssucceeded
+rv
+attachment
+attachment
+setname
+decodedsubject
+get
+attachment
+seturl
+uri
+mcompfields
+addattachment
+attachment
+isfirstpass
+decodedsubject
+insert
+nsliteralstring
+fwd
+get
+decodedsubject
+append
+nsliteralstring
+get
+mcompfields
+setsubject
+decodedsubject
+get
+isfirstpass
+prfalse
+uri
+nexturi
+nexturi
+prfree
+urilist
+rv
+nsimethodimp
+nsmsgcompose
+getprogress
+nsimsgprogress
+retval
+nsensureargpointer
+retval
+retval
+mprogress
+nsifaddref
+retval
+nsok
+nsimethodimp
+nsmsgcompose
+getmessagesend
+nsimsgsend
+retval
+nsensureargpointer
+retval
+retval
+mmsgsend
+nsifaddref
+retval
+nsok
+nsimethodimp
+nsmsgcompose
+getexternalsendlistener
+nsimsgsendlistener
+retval
+nsensureargpointer
+retval
+retval
+mexternalsendlistener
+nsifaddref
+retval
+nsok
+nsimethodimp
+nsmsgcompose
+setcitereference
+nsstring
+citereference
+mcitereference
+citereference
+nsok
+nsimethodimp
+nsmsgcompose
+setsavedfolderuri
+folderuri
+mfoldername
+folderuri
+nsok
+nsimethodimp
+nsmsgcompose
+getsavedfolderuri
+folderuri
+nsensureargpointer
+folderuri
+folderuri
+tonewcstring
+mfoldername
+folderuri
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgcompose
+getoriginalmsguri
+originalmsguri
+nsensureargpointer
+originalmsguri
+originalmsguri
+tonewcstring
+moriginalmsguri
+originalmsguri
+nsok
+nserroroutofmemory
+quotingoutputstreamlistener
+quotingoutputstreamlistener
+municodeconversionbuffer
+nsmemory
+free
+municodeconversionbuffer
+quotingoutputstreamlistener
+quotingoutputstreamlistener
+originalmsguri
+prbool
+quoteheaders
+prbool
+headersonly
+nsimsgidentity
+identity
+charset
+prbool
+charetoverride
+prbool
+quoteoriginal
+nsresult
+rv
+mquoteheaders
+quoteheaders
+mheadersonly
+headersonly
+midentity
+identity
+municodebuffercharacterlength
+municodeconversionbuffer
+nsnull
+mquoteoriginal
+quoteoriginal
+mheadersonly
+nsxpidlstring
+replyheaderoriginalmessage
+nscomptr
+nsimsgdbhdr
+originalmsghdr
+rv
+getmsgdbhdrfromuri
+originalmsguri
+getteraddrefs
+originalmsghdr
+nssucceeded
+rv
+originalmsghdr
+quoteheaders
+nsxpidlcstring
+mygetter
+nssucceeded
+originalmsghdr
+getmessageid
+gettercopies
+mygetter
+mygetter
+isempty
+nscautostring
+buf
+mcitereference
+nsliteralstring
+mid
+nsconvertasciitoucs
+nsescapeurl
+mygetter
+escfilebasename
+escforced
+buf
+getreplyontop
+mciteprefix
+nsliteralstring
+br
+br
+prbool
+header
+headerdate
+print
+replyheadertype
+nsxpidlstring
+replyheaderlocale
+nsxpidlstring
+replyheaderauthorwrote
+nsxpidlstring
+replyheaderondate
+nsxpidlstring
+replyheaderseparator
+nsxpidlstring
+replyheadercolon
+rv
+getreplyheaderinfo
+replyheadertype
+gettercopies
+replyheaderlocale
+gettercopies
+replyheaderauthorwrote
+gettercopies
+replyheaderondate
+gettercopies
+replyheaderseparator
+gettercopies
+replyheadercolon
+gettercopies
+replyheaderoriginalmessage
+replyheadertype
+header
+prfalse
+headerdate
+prfalse
+header
+prtrue
+headerdate
+prtrue
+header
+prtrue
+headerdate
+prfalse
+nsautostring
+citeprefixdate
+nsautostring
+citeprefixauthor
+header
+headerdate
+nscomptr
+nsidatetimeformat
+dateformatter
+docreateinstance
+kdatetimeformatcid
+rv
+nssucceeded
+rv
+prtime
+originalmsgdate
+rv
+originalmsghdr
+getdate
+originalmsgdate
+nssucceeded
+rv
+nsautostring
+formatteddatestring
+nscomptr
+nsilocale
+locale
+nscomptr
+nsilocaleservice
+localeservice
+dogetservice
+nslocaleservicecontractid
+replyheaderlocale
+replyheaderlocale
+rv
+localeservice
+newlocale
+replyheaderlocale
+get
+getteraddrefs
+locale
+rv
+localeservice
+getapplicationlocale
+getteraddrefs
+locale
+nssucceeded
+rv
+rv
+dateformatter
+formatprtime
+locale
+kdateformatshort
+ktimeformatnoseconds
+originalmsgdate
+formatteddatestring
+nssucceeded
+rv
+prunichar
+formatedstring
+nsnull
+formatedstring
+nstextformatter
+smprintf
+replyheaderondate
+get
+nsconvertucstoutf
+formatteddatestring
+get
+get
+formatedstring
+citeprefixdate
+assign
+formatedstring
+nstextformatter
+smprintffree
+formatedstring
+nsxpidlcstring
+author
+rv
+originalmsghdr
+getauthor
+gettercopies
+author
+nssucceeded
+rv
+nsxpidlcstring
+decodedstring
+mmimeconverter
+dogetservice
+nsmimeconvertercontractid
+mmimeconverter
+mmimeconverter
+decodemimeheader
+author
+get
+gettercopies
+decodedstring
+charset
+charetoverride
+nscomptr
+nsimsgheaderparser
+parser
+dogetservice
+nsmailnewsmimeheaderparsercontractid
+parser
+nsxpidlcstring
+authorname
+rv
+parser
+extractheaderaddressname
+utf
+decodedstring
+decodedstring
+get
+author
+get
+gettercopies
+authorname
+prunichar
+formatedstring
+nsnull
+nssucceeded
+rv
+authorname
+formatedstring
+nstextformatter
+smprintf
+replyheaderauthorwrote
+get
+authorname
+get
+formatedstring
+nstextformatter
+smprintf
+replyheaderauthorwrote
+get
+author
+get
+formatedstring
+citeprefixauthor
+assign
+formatedstring
+nstextformatter
+smprintffree
+formatedstring
+replyheadertype
+mciteprefix
+append
+citeprefixdate
+mciteprefix
+append
+replyheaderseparator
+mciteprefix
+append
+citeprefixauthor
+replyheadertype
+mciteprefix
+append
+citeprefixauthor
+mciteprefix
+append
+replyheaderseparator
+mciteprefix
+append
+citeprefixdate
+mciteprefix
+append
+citeprefixauthor
+mciteprefix
+append
+replyheadercolon
+mciteprefix
+append
+nsliteralstring
+br
+html
+mciteprefix
+isempty
+replyheaderoriginalmessage
+print
+replyheadertype
+nsxpidlstring
+replyheaderlocale
+nsxpidlstring
+replyheaderauthorwrote
+nsxpidlstring
+replyheaderondate
+nsxpidlstring
+replyheaderseparator
+nsxpidlstring
+replyheadercolon
+rv
+getreplyheaderinfo
+replyheadertype
+gettercopies
+replyheaderlocale
+gettercopies
+replyheaderauthorwrote
+gettercopies
+replyheaderondate
+gettercopies
+replyheaderseparator
+gettercopies
+replyheadercolon
+gettercopies
+replyheaderoriginalmessage
+mciteprefix
+append
+nsliteralstring
+br
+br
+mciteprefix
+append
+replyheaderoriginalmessage
+mciteprefix
+append
+nsliteralstring
+br
+html
+nsresult
+quotingoutputstreamlistener
+converttoplaintext
+prbool
+formatflowed
+nsresult
+rv
+nsok
+rv
+convertbuftoplaintext
+mciteprefix
+formatflowed
+rv
+convertbuftoplaintext
+mmsgbody
+formatflowed
+rv
+convertbuftoplaintext
+msignature
+formatflowed
+rv
+nsimethodimp
+quotingoutputstreamlistener
+onstartrequest
+nsirequest
+request
+nsisupports
+nsok
+nsimethodimp
+quotingoutputstreamlistener
+onstoprequest
+nsirequest
+request
+nsisupports
+nsresult
+status
+nsresult
+rv
+nsok
+nsautostring
+acharset
+nscomptr
+nsimsgcompose
+compose
+doqueryreferent
+mweakcomposeobj
+compose
+msgcomposetype
+type
+compose
+gettype
+type
+mcitereference
+isempty
+compose
+setcitereference
+mcitereference
+mheaders
+type
+nsimsgcomptype
+reply
+type
+nsimsgcomptype
+replyall
+type
+nsimsgcomptype
+replytosender
+type
+nsimsgcomptype
+replytogroup
+type
+nsimsgcomptype
+replytosenderandgroup
+mquoteoriginal
+nscomptr
+nsimsgcompfields
+compfields
+compose
+getcompfields
+getteraddrefs
+compfields
+compfields
+acharset
+assignwithconversion
+msgcompheaderinternalcharset
+nsautostring
+recipient
+nsautostring
+cc
+nsautostring
+replyto
+nsautostring
+newgroups
+nsautostring
+followupto
+nsautostring
+messageid
+nsautostring
+references
+nsxpidlcstring
+outcstring
+prunichar
+emptyunichar
+prbool
+needtoremovedup
+prfalse
+mmimeconverter
+mmimeconverter
+dogetservice
+nsmimeconvertercontractid
+rv
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+charset
+compfields
+getcharacterset
+gettercopies
+charset
+type
+nsimsgcomptype
+replyall
+mheaders
+extractheader
+headerto
+prtrue
+gettercopies
+outcstring
+outcstring
+mmimeconverter
+decodemimeheader
+outcstring
+recipient
+charset
+mheaders
+extractheader
+headercc
+prtrue
+gettercopies
+outcstring
+outcstring
+mmimeconverter
+decodemimeheader
+outcstring
+cc
+charset
+recipient
+length
+cc
+length
+recipient
+append
+nsliteralstring
+recipient
+cc
+compfields
+setcc
+recipient
+get
+needtoremovedup
+prtrue
+mheaders
+extractheader
+headerreplyto
+prfalse
+gettercopies
+outcstring
+outcstring
+mmimeconverter
+decodemimeheader
+outcstring
+replyto
+charset
+mheaders
+extractheader
+headernewsgroups
+prfalse
+gettercopies
+outcstring
+outcstring
+mmimeconverter
+decodemimeheader
+outcstring
+newgroups
+charset
+mheaders
+extractheader
+headerfollowupto
+prfalse
+gettercopies
+outcstring
+outcstring
+mmimeconverter
+decodemimeheader
+outcstring
+followupto
+charset
+mheaders
+extractheader
+headermessageid
+prfalse
+gettercopies
+outcstring
+outcstring
+mmimeconverter
+decodemimeheader
+outcstring
+messageid
+charset
+mheaders
+extractheader
+headerreferences
+prfalse
+gettercopies
+outcstring
+outcstring
+mmimeconverter
+decodemimeheader
+outcstring
+references
+charset
+replyto
+isempty
+compfields
+setto
+replyto
+get
+needtoremovedup
+prtrue
+newgroups
+isempty
+type
+nsimsgcomptype
+reply
+type
+nsimsgcomptype
+replytosender
+compfields
+setnewsgroups
+nslossyconvertucstoascii
+newgroups
+get
+type
+nsimsgcomptype
+replytogroup
+compfields
+setto
+emptyunichar
+followupto
+isempty
+followupto
+nsliteralstring
+poster
+nscomptr
+nsidomwindowinternal
+composewindow
+nscomptr
+nsiprompt
+prompt
+compose
+getdomwindow
+getteraddrefs
+composewindow
+composewindow
+composewindow
+getprompter
+getteraddrefs
+prompt
+nsmsgdisplaymessagebyid
+prompt
+nsmsgfollowuptoalert
+replyto
+isempty
+compfields
+setto
+replyto
+get
+mheaders
+extractheader
+headerfrom
+prfalse
+gettercopies
+outcstring
+outcstring
+nsautostring
+from
+mmimeconverter
+decodemimeheader
+outcstring
+from
+charset
+compfields
+setto
+from
+get
+newgroups
+isempty
+compfields
+setnewsgroups
+nsnull
+type
+nsimsgcomptype
+replytosender
+compfields
+setnewsgroups
+nslossyconvertucstoascii
+followupto
+get
+type
+nsimsgcomptype
+reply
+compfields
+setto
+emptyunichar
+references
+isempty
+references
+append
+prunichar
+references
+messageid
+compfields
+setreferences
+nslossyconvertucstoascii
+references
+get
+needtoremovedup
+resultstr
+nsmsgcompfields
+compfields
+nsmsgcompfields
+compfields
+get
+nssucceeded
+rv
+nscstring
+addresstoberemoved
+compfields
+getto
+midentity
+nsxpidlcstring
+email
+midentity
+getemail
+gettercopies
+email
+addresstoberemoved
+addresstoberemoved
+nsconstcast
+email
+rv
+removeduplicateaddresses
+compfields
+getcc
+addresstoberemoved
+get
+prtrue
+resultstr
+nssucceeded
+rv
+compfields
+setcc
+resultstr
+prfree
+resultstr
+ifdef
+msgcomptraceperformance
+nscomptr
+nsimsgcomposeservice
+composeservice
+dogetservice
+nsmsgcomposeservicecontractid
+composeservice
+timestamp
+done
+with
+mime
+now
+we
+re
+updating
+the
+ui
+elements
+prfalse
+endif
+mquoteoriginal
+compose
+notifystatelisteners
+ecomposefieldsready
+nsok
+ifdef
+msgcomptraceperformance
+composeservice
+timestamp
+addressing
+widget
+window
+title
+focus
+are
+now
+set
+time
+to
+insert
+the
+body
+prfalse
+endif
+mheadersonly
+mmsgbody
+append
+nsliteralstring
+html
+prbool
+composehtml
+prtrue
+compose
+getcomposehtml
+composehtml
+composehtml
+targetcharset
+tonewcstring
+acharset
+prbool
+formatflowed
+useformatflowed
+targetcharset
+converttoplaintext
+formatflowed
+recycle
+targetcharset
+compose
+processsignature
+midentity
+msignature
+nscomptr
+nsieditor
+editor
+nssucceeded
+compose
+geteditor
+getteraddrefs
+editor
+editor
+mquoteoriginal
+compose
+convertandloadcomposewindow
+mciteprefix
+mmsgbody
+msignature
+prtrue
+composehtml
+inserttocompose
+editor
+composehtml
+rv
+nsimethodimp
+quotingoutputstreamlistener
+ondataavailable
+nsirequest
+request
+nsisupports
+ctxt
+nsiinputstream
+instr
+pruint
+sourceoffset
+pruint
+count
+nsresult
+rv
+nsok
+nsensurearg
+instr
+mheadersonly
+rv
+newbuf
+prmalloc
+count
+newbuf
+nserrorfailure
+pruint
+numwritten
+rv
+instr
+read
+newbuf
+count
+numwritten
+rv
+nsbasestreamwouldblock
+rv
+nsok
+newbuf
+numwritten
+nssucceeded
+rv
+numwritten
+municodedecoder
+nscomptr
+nsicharsetconvertermanager
+ccm
+dogetservice
+nscharsetconvertermanagercontractid
+rv
+nssucceeded
+rv
+rv
+ccm
+getunicodedecoderraw
+utf
+getteraddrefs
+municodedecoder
+nssucceeded
+rv
+print
+unicharlength
+print
+inputlength
+print
+numwritten
+rv
+municodedecoder
+getmaxlength
+newbuf
+numwritten
+unicharlength
+nssucceeded
+rv
+pruint
+klocalbufsize
+prunichar
+localbuf
+klocalbufsize
+prunichar
+unichars
+localbuf
+unicharlength
+klocalbufsize
+municodeconversionbuffer
+unicharlength
+municodebuffercharacterlength
+municodeconversionbuffer
+nsmemory
+free
+municodeconversionbuffer
+municodeconversionbuffer
+prunichar
+nsmemory
+alloc
+unicharlength
+prunichar
+municodeconversionbuffer
+municodebuffercharacterlength
+prfree
+newbuf
+nserroroutofmemory
+municodebuffercharacterlength
+unicharlength
+unichars
+municodeconversionbuffer
+print
+consumedinputlength
+print
+originalinputlength
+inputlength
+inputbuffer
+newbuf
+print
+convertedoutputlength
+print
+outputbufferlength
+unicharlength
+prunichar
+originaloutputbuffer
+unichars
+rv
+municodedecoder
+convert
+inputbuffer
+inputlength
+unichars
+unicharlength
+nssucceeded
+rv
+convertedoutputlength
+unicharlength
+unichars
+unicharlength
+unichars
+prunichar
+unichars
+unicharlength
+municodedecoder
+reset
+inputbuffer
+inputlength
+consumedinputlength
+inputlength
+inputlength
+originalinputlength
+consumedinputlength
+convertedoutputlength
+unicharlength
+unicharlength
+outputbufferlength
+unicharlength
+nsfailed
+rv
+originalinputlength
+consumedinputlength
+outputbufferlength
+convertedoutputlength
+convertedoutputlength
+mmsgbody
+append
+originaloutputbuffer
+convertedoutputlength
+prfreeif
+newbuf
+rv
+nsresult
+quotingoutputstreamlistener
+setcomposeobj
+nsimsgcompose
+obj
+mweakcomposeobj
+getteraddrefs
+nsgetweakreference
+obj
+nsok
+nsresult
+quotingoutputstreamlistener
+setmimeheaders
+nsimimeheaders
+headers
+mheaders
+headers
+nsok
+nsimethodimp
+quotingoutputstreamlistener
+inserttocompose
+nsieditor
+aeditor
+prbool
+ahtmleditor
+nscomptr
+nsidomnode
+nodeinserted
+translatelineending
+mmsgbody
+aeditor
+aeditor
+enableundo
+prtrue
+mmsgbody
+isempty
+mciteprefix
+isempty
+ahtmleditor
+nscomptr
+nsihtmleditor
+htmleditor
+doqueryinterface
+aeditor
+htmleditor
+htmleditor
+inserthtml
+mciteprefix
+nscomptr
+nsiplaintexteditor
+texteditor
+doqueryinterface
+aeditor
+texteditor
+texteditor
+inserttext
+mciteprefix
+nscomptr
+nsieditormailsupport
+maileditor
+doqueryinterface
+aeditor
+maileditor
+ahtmleditor
+maileditor
+insertascitedquotation
+mmsgbody
+nsliteralstring
+prtrue
+getteraddrefs
+nodeinserted
+maileditor
+insertasquotation
+mmsgbody
+getteraddrefs
+nodeinserted
+aeditor
+nscomptr
+nsiplaintexteditor
+texteditor
+doqueryinterface
+aeditor
+texteditor
+nscomptr
+nsiselection
+selection
+nscomptr
+nsidomnode
+parent
+print
+offset
+nsresult
+rv
+rv
+getnodelocation
+nodeinserted
+addressof
+parent
+offset
+nsensuresuccess
+rv
+rv
+aeditor
+getselection
+getteraddrefs
+selection
+selection
+selection
+collapse
+parent
+offset
+texteditor
+insertlinebreak
+selection
+collapse
+parent
+offset
+nscomptr
+nsiselectioncontroller
+selcon
+aeditor
+getselectioncontroller
+getteraddrefs
+selcon
+selcon
+selcon
+scrollselectionintoview
+nsiselectioncontroller
+selectionnormal
+nsiselectioncontroller
+selectionanchorregion
+prtrue
+nsok
+nsimplisupports
+quotingoutputstreamlistener
+nsistreamlistener
+nsimethodimp
+nsmsgcompose
+settype
+msgcomposetype
+atype
+mtype
+atype
+nsok
+nsimethodimp
+nsmsgcompose
+gettype
+msgcomposetype
+atype
+nsensureargpointer
+atype
+atype
+mtype
+nsok
+nsimethodimp
+nsmsgcompose
+quotemessage
+msguri
+nsresult
+rv
+mquotingtofollow
+prfalse
+mquote
+docreateinstance
+nsmsgquotecontractid
+rv
+nsensuresuccess
+rv
+rv
+mquotestreamlistener
+quotingoutputstreamlistener
+msguri
+prfalse
+prfalse
+midentity
+mcompfields
+getcharacterset
+mcharsetoverride
+prfalse
+mquotestreamlistener
+ifdef
+nsdebug
+printf
+failed
+to
+create
+mquotestreamlistener
+endif
+nserrorfailure
+nsaddref
+mquotestreamlistener
+mquotestreamlistener
+setcomposeobj
+rv
+mquote
+quotemessage
+msguri
+prfalse
+mquotestreamlistener
+mcharsetoverride
+mcompfields
+getcharacterset
+prfalse
+rv
+nsresult
+nsmsgcompose
+quoteoriginalmessage
+originalmsguri
+print
+what
+nsresult
+rv
+mquotingtofollow
+prfalse
+mquote
+docreateinstance
+nsmsgquotecontractid
+rv
+nsfailed
+rv
+mquote
+nserrorfailure
+prbool
+bautoquote
+prtrue
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+prefs
+prefs
+getboolpref
+mail
+autoquote
+bautoquote
+mquotestreamlistener
+quotingoutputstreamlistener
+originalmsguri
+what
+bautoquote
+midentity
+mcompfields
+getcharacterset
+mcharsetoverride
+prtrue
+mquotestreamlistener
+ifdef
+nsdebug
+printf
+failed
+to
+create
+mquotestreamlistener
+endif
+nserrorfailure
+nsaddref
+mquotestreamlistener
+mquotestreamlistener
+setcomposeobj
+rv
+mquote
+quotemessage
+originalmsguri
+what
+mquotestreamlistener
+mcharsetoverride
+mcompfields
+getcharacterset
+bautoquote
+rv
+nsmsgcompose
+cleanuprecipients
+nsstring
+recipients
+pruint
+prbool
+startanewrecipient
+prtrue
+prbool
+removebracket
+prfalse
+nsautostring
+newrecipient
+prunichar
+achar
+recipients
+length
+achar
+recipients
+achar
+startanewrecipient
+removebracket
+prtrue
+newrecipient
+achar
+startanewrecipient
+prfalse
+removebracket
+removebracket
+prfalse
+newrecipient
+achar
+newrecipient
+achar
+newrecipient
+achar
+startanewrecipient
+prtrue
+removebracket
+prfalse
+newrecipient
+achar
+startanewrecipient
+prfalse
+recipients
+newrecipient
+nsresult
+nsmsgcompose
+processreplyflags
+nsresult
+rv
+mtype
+nsimsgcomptype
+reply
+mtype
+nsimsgcomptype
+replyall
+mtype
+nsimsgcomptype
+replytogroup
+mtype
+nsimsgcomptype
+replytosender
+mtype
+nsimsgcomptype
+replytosenderandgroup
+mtype
+nsimsgcomptype
+forwardasattachment
+mtype
+nsimsgcomptype
+forwardinline
+moriginalmsguri
+isempty
+urilist
+plstrdup
+moriginalmsguri
+get
+urilist
+nserroroutofmemory
+newstr
+urilist
+uri
+nsnull
+uri
+nscrt
+strtok
+newstr
+newstr
+nscomptr
+nsimsgdbhdr
+msghdr
+rv
+getmsgdbhdrfromuri
+uri
+getteraddrefs
+msghdr
+nsensuresuccess
+rv
+rv
+msghdr
+nscomptr
+nsimsgfolder
+msgfolder
+msghdr
+getfolder
+getteraddrefs
+msgfolder
+msgfolder
+nsmsgdispositionstate
+dispositionsetting
+nsimsgfolder
+nsmsgdispositionstatereplied
+mtype
+nsimsgcomptype
+forwardasattachment
+mtype
+nsimsgcomptype
+forwardinline
+dispositionsetting
+nsimsgfolder
+nsmsgdispositionstateforwarded
+msgfolder
+addmessagedispositionstate
+msghdr
+dispositionsetting
+mtype
+nsimsgcomptype
+forwardasattachment
+prfree
+urilist
+nsok
+nsimpladdref
+nsmsgcomposesendlistener
+nsimplrelease
+nsmsgcomposesendlistener
+nsinterfacemapbegin
+nsmsgcomposesendlistener
+nsinterfacemapentryambiguous
+nsisupports
+nsimsgcomposesendlistener
+nsinterfacemapentry
+nsimsgcomposesendlistener
+nsinterfacemapentry
+nsimsgsendlistener
+nsinterfacemapentry
+nsimsgcopyservicelistener
+nsinterfacemapentry
+nsiwebprogresslistener
+nsinterfacemapend
+nsmsgcomposesendlistener
+nsmsgcomposesendlistener
+defined
+debugducarroz
+printf
+create
+nsmsgcomposesendlistener
+endif
+mdelivermode
+nsmsgcomposesendlistener
+nsmsgcomposesendlistener
+defined
+debugducarroz
+printf
+dispose
+nsmsgcomposesendlistener
+endif
+nsimethodimp
+nsmsgcomposesendlistener
+setmsgcompose
+nsimsgcompose
+obj
+mweakcomposeobj
+getteraddrefs
+nsgetweakreference
+obj
+nsok
+nsimethodimp
+nsmsgcomposesendlistener
+setdelivermode
+msgdelivermode
+delivermode
+mdelivermode
+delivermode
+nsok
+nsresult
+nsmsgcomposesendlistener
+onstartsending
+amsgid
+pruint
+amsgsize
+ifdef
+nsdebug
+printf
+nsmsgcomposesendlistener
+onstartsending
+endif
+nscomptr
+nsimsgcompose
+compose
+doqueryreferent
+mweakcomposeobj
+compose
+nscomptr
+nsimsgsendlistener
+externallistener
+compose
+getexternalsendlistener
+getteraddrefs
+externallistener
+externallistener
+externallistener
+onstartsending
+amsgid
+amsgsize
+nsok
+nsresult
+nsmsgcomposesendlistener
+onprogress
+amsgid
+pruint
+aprogress
+pruint
+aprogressmax
+ifdef
+nsdebug
+printf
+nsmsgcomposesendlistener
+onprogress
+endif
+nscomptr
+nsimsgcompose
+compose
+doqueryreferent
+mweakcomposeobj
+compose
+nscomptr
+nsimsgsendlistener
+externallistener
+compose
+getexternalsendlistener
+getteraddrefs
+externallistener
+externallistener
+externallistener
+onprogress
+amsgid
+aprogress
+aprogressmax
+nsok
+nsresult
+nsmsgcomposesendlistener
+onstatus
+amsgid
+prunichar
+amsg
+ifdef
+nsdebug
+printf
+nsmsgcomposesendlistener
+onstatus
+endif
+nscomptr
+nsimsgcompose
+compose
+doqueryreferent
+mweakcomposeobj
+compose
+nscomptr
+nsimsgsendlistener
+externallistener
+compose
+getexternalsendlistener
+getteraddrefs
+externallistener
+externallistener
+externallistener
+onstatus
+amsgid
+amsg
+nsok
+nsresult
+nsmsgcomposesendlistener
+onsendnotperformed
+amsgid
+nsresult
+astatus
+nsresult
+rv
+nsok
+nscomptr
+nsimsgcompose
+compose
+doqueryreferent
+mweakcomposeobj
+compose
+compose
+notifystatelisteners
+ecomposeprocessdone
+astatus
+nscomptr
+nsimsgsendlistener
+externallistener
+compose
+getexternalsendlistener
+getteraddrefs
+externallistener
+externallistener
+externallistener
+onsendnotperformed
+amsgid
+astatus
+rv
+nsresult
+nsmsgcomposesendlistener
+onstopsending
+amsgid
+nsresult
+astatus
+prunichar
+amsg
+nsifilespec
+returnfilespec
+nsresult
+rv
+nsok
+nscomptr
+nsimsgcompose
+compose
+doqueryreferent
+mweakcomposeobj
+compose
+nscomptr
+nsimsgprogress
+progress
+compose
+getprogress
+getteraddrefs
+progress
+progress
+progress
+unregisterlistener
+nssucceeded
+astatus
+ifdef
+nsdebug
+printf
+nsmsgcomposesendlistener
+success
+on
+the
+message
+send
+operation
+endif
+nscomptr
+nsimsgcompfields
+compfields
+compose
+getcompfields
+getteraddrefs
+compfields
+compose
+processreplyflags
+nsxpidlstring
+fieldsfcc
+nssucceeded
+compfields
+getfcc
+gettercopies
+fieldsfcc
+fieldsfcc
+isempty
+fieldsfcc
+equals
+nsliteralstring
+nocopy
+nscaseinsensitivestringcomparator
+compose
+notifystatelisteners
+ecomposeprocessdone
+nsok
+progress
+progress
+closeprogressdialog
+prfalse
+compose
+closewindow
+prtrue
+compose
+notifystatelisteners
+ecomposeprocessdone
+nsok
+progress
+progress
+closeprogressdialog
+prfalse
+compose
+closewindow
+prtrue
+msgcomposetype
+comptype
+nsimsgcomptype
+draft
+compose
+gettype
+comptype
+comptype
+nsimsgcomptype
+draft
+removecurrentdraftmessage
+compose
+prfalse
+ifdef
+nsdebug
+printf
+nsmsgcomposesendlistener
+the
+message
+send
+operation
+failed
+endif
+compose
+notifystatelisteners
+ecomposeprocessdone
+astatus
+progress
+progress
+closeprogressdialog
+prtrue
+nscomptr
+nsimsgsendlistener
+externallistener
+compose
+getexternalsendlistener
+getteraddrefs
+externallistener
+externallistener
+externallistener
+onstopsending
+amsgid
+astatus
+amsg
+returnfilespec
+rv
+nsresult
+nsmsgcomposesendlistener
+ongetdraftfolderuri
+afolderuri
+nscomptr
+nsimsgcompose
+compose
+doqueryreferent
+mweakcomposeobj
+compose
+compose
+setsavedfolderuri
+afolderuri
+nscomptr
+nsimsgsendlistener
+externallistener
+compose
+getexternalsendlistener
+getteraddrefs
+externallistener
+externallistener
+externallistener
+ongetdraftfolderuri
+afolderuri
+nsok
+nsresult
+nsmsgcomposesendlistener
+onstartcopy
+ifdef
+nsdebug
+printf
+nsmsgcomposesendlistener
+onstartcopy
+endif
+nsok
+nsresult
+nsmsgcomposesendlistener
+onprogress
+pruint
+aprogress
+pruint
+aprogressmax
+ifdef
+nsdebug
+printf
+nsmsgcomposesendlistener
+onprogress
+copy
+endif
+nsok
+nsresult
+nsmsgcomposesendlistener
+onstopcopy
+nsresult
+astatus
+nsresult
+rv
+nsok
+nscomptr
+nsimsgcompose
+compose
+doqueryreferent
+mweakcomposeobj
+compose
+nscomptr
+nsimsgprogress
+progress
+compose
+getprogress
+getteraddrefs
+progress
+progress
+progress
+closeprogressdialog
+nsfailed
+astatus
+compose
+notifystatelisteners
+ecomposeprocessdone
+astatus
+nssucceeded
+astatus
+ifdef
+nsdebug
+printf
+nsmsgcomposesendlistener
+success
+on
+the
+message
+copy
+operation
+endif
+mdelivermode
+nsimsgsend
+nsmsgsaveasdraft
+mdelivermode
+nsimsgsend
+nsmsgsaveastemplate
+compose
+closewindow
+prtrue
+compose
+notifystatelisteners
+esaveinfolderdone
+astatus
+mdelivermode
+nsimsgsend
+nsmsgsaveasdraft
+compose
+settype
+nsimsgcomptype
+draft
+removecurrentdraftmessage
+compose
+prtrue
+ifdef
+nsdebug
+printf
+nsmsgcomposesendlistener
+the
+message
+copy
+operation
+failed
+endif
+rv
+nsresult
+nsmsgcomposesendlistener
+getmsgfolder
+nsimsgcompose
+compobj
+nsimsgfolder
+msgfolder
+nsresult
+rv
+nscomptr
+nsimsgfolder
+amsgfolder
+nsxpidlcstring
+folderuri
+rv
+compobj
+getsavedfolderuri
+gettercopies
+folderuri
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfservice
+rdfservice
+dogetservice
+rdf
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+resource
+rv
+rdfservice
+getresource
+folderuri
+getteraddrefs
+resource
+nsensuresuccess
+rv
+rv
+amsgfolder
+doqueryinterface
+resource
+rv
+nsensuresuccess
+rv
+rv
+msgfolder
+amsgfolder
+nsifaddref
+msgfolder
+rv
+nsresult
+nsmsgcomposesendlistener
+removecurrentdraftmessage
+nsimsgcompose
+compobj
+prbool
+calledbycopy
+nsresult
+rv
+nscomptr
+nsimsgcompfields
+compfields
+nsnull
+rv
+compobj
+getcompfields
+getteraddrefs
+compfields
+nsassertion
+nssucceeded
+rv
+removecurrentdraftmessage
+can
+get
+compose
+fields
+nsfailed
+rv
+compfields
+rv
+nsxpidlcstring
+curdraftidurl
+nsmsgkey
+newuid
+nsxpidlcstring
+newdraftidurl
+nscomptr
+nsimsgfolder
+msgfolder
+rv
+compfields
+getdraftid
+gettercopies
+curdraftidurl
+nsassertion
+nssucceeded
+rv
+curdraftidurl
+removecurrentdraftmessage
+can
+get
+draft
+id
+nssucceeded
+rv
+curdraftidurl
+get
+strlen
+curdraftidurl
+get
+nscomptr
+nsimsgdbhdr
+msgdbhdr
+rv
+getmsgdbhdrfromuri
+curdraftidurl
+getteraddrefs
+msgdbhdr
+nsassertion
+nssucceeded
+rv
+removecurrentdraftmessage
+can
+get
+msg
+header
+db
+pointer
+nssucceeded
+rv
+msgdbhdr
+msgdbhdr
+getfolder
+getteraddrefs
+msgfolder
+nsassertion
+nssucceeded
+rv
+removecurrentdraftmessage
+can
+get
+msg
+folder
+pointer
+nssucceeded
+rv
+msgfolder
+nscomptr
+nsisupportsarray
+messagearray
+rv
+nsnewisupportsarray
+getteraddrefs
+messagearray
+nsassertion
+nssucceeded
+rv
+removecurrentdraftmessage
+can
+allocate
+support
+array
+nssucceeded
+rv
+messagearray
+rv
+messagearray
+appendelement
+msgdbhdr
+nsassertion
+nssucceeded
+rv
+removecurrentdraftmessage
+can
+append
+msg
+header
+to
+array
+nssucceeded
+rv
+rv
+msgfolder
+deletemessages
+messagearray
+nsnull
+prtrue
+prfalse
+nsnull
+prfalse
+nsassertion
+nssucceeded
+rv
+removecurrentdraftmessage
+can
+message
+rv
+getmsgfolder
+compobj
+getteraddrefs
+msgfolder
+nssucceeded
+rv
+msgfolder
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+doqueryinterface
+msgfolder
+nsassertion
+imapfolder
+the
+draft
+folder
+must
+be
+an
+imap
+folder
+in
+order
+to
+mark
+the
+msg
+nssucceeded
+rv
+imapfolder
+str
+plstrstr
+curdraftidurl
+get
+nsassertion
+str
+failed
+to
+get
+current
+draft
+id
+url
+str
+nsmsgkeyarray
+messageid
+nscautostring
+srcstr
+str
+print
+num
+err
+num
+srcstr
+tointeger
+err
+num
+nsmsgkeynone
+messageid
+add
+num
+rv
+imapfolder
+storeimapflags
+kimapmsgdeletedflag
+prtrue
+messageid
+getarray
+messageid
+getsize
+calledbycopy
+nscomptr
+nsimsgsend
+msgsend
+rv
+compobj
+getmessagesend
+getteraddrefs
+msgsend
+nsassertion
+msgsend
+removecurrentdraftmessage
+msgsend
+is
+nsfailed
+rv
+msgsend
+rv
+rv
+msgsend
+getmessagekey
+newuid
+nsensuresuccess
+rv
+rv
+msgfolder
+rv
+getmsgfolder
+compobj
+getteraddrefs
+msgfolder
+nsensuresuccess
+rv
+rv
+msgfolder
+newuid
+nsmsgkeynone
+rv
+msgfolder
+generatemessageuri
+newuid
+gettercopies
+newdraftidurl
+nsensuresuccess
+rv
+rv
+compfields
+setdraftid
+newdraftidurl
+get
+rv
+nsresult
+nsmsgcomposesendlistener
+setmessagekey
+pruint
+amessagekey
+nsok
+nsresult
+nsmsgcomposesendlistener
+getmessageid
+nscstring
+amessageid
+nsok
+nsimethodimp
+nsmsgcomposesendlistener
+onstatechange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+pruint
+astateflags
+nsresult
+astatus
+astateflags
+nsiwebprogresslistener
+statestop
+nscomptr
+nsimsgcompose
+compose
+doqueryreferent
+mweakcomposeobj
+compose
+nscomptr
+nsimsgprogress
+progress
+compose
+getprogress
+getteraddrefs
+progress
+progress
+progress
+unregisterlistener
+prbool
+bcanceled
+prfalse
+progress
+getprocesscanceledbyuser
+bcanceled
+bcanceled
+nsxpidlstring
+msg
+nscomptr
+nsimsgstringservice
+strbundle
+dogetservice
+nsmsgcomposestringservicecontractid
+strbundle
+getstringbyid
+nsmsgcancelling
+gettercopies
+msg
+progress
+onstatuschange
+nsnull
+nsnull
+msg
+nscomptr
+nsimsgsend
+msgsend
+compose
+getmessagesend
+getteraddrefs
+msgsend
+msgsend
+msgsend
+abort
+nsok
+nsimethodimp
+nsmsgcomposesendlistener
+onprogresschange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+print
+acurselfprogress
+print
+amaxselfprogress
+print
+acurtotalprogress
+print
+amaxtotalprogress
+nsok
+nsimethodimp
+nsmsgcomposesendlistener
+onlocationchange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+nsiuri
+location
+nsok
+nsimethodimp
+nsmsgcomposesendlistener
+onstatuschange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+nsresult
+astatus
+prunichar
+amessage
+nsok
+nsimethodimp
+nsmsgcomposesendlistener
+onsecuritychange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+pruint
+state
+nsok
+nsresult
+nsmsgcompose
+converthtmltotext
+nsfilespec
+asigfile
+nsstring
+asigdata
+nsresult
+rv
+nsautostring
+origbuf
+rv
+loaddatafromfile
+asigfile
+origbuf
+nsfailed
+rv
+rv
+convertbuftoplaintext
+origbuf
+prfalse
+asigdata
+origbuf
+nsok
+nsresult
+nsmsgcompose
+converttexttohtml
+nsfilespec
+asigfile
+nsstring
+asigdata
+nsresult
+rv
+nsautostring
+origbuf
+rv
+loaddatafromfile
+asigfile
+origbuf
+nsfailed
+rv
+rv
+prunichar
+escaped
+nsescapehtml
+origbuf
+get
+escaped
+asigdata
+append
+escaped
+nscrt
+free
+escaped
+asigdata
+append
+origbuf
+nsok
+nsresult
+nsmsgcompose
+loaddatafromfile
+nsfilespec
+fspec
+nsstring
+sigdata
+print
+readsize
+print
+ngot
+readbuf
+ptr
+fspec
+isdirectory
+nsassertion
+file
+is
+directory
+nsmsgerrorreadingfile
+nsinputfilestream
+tempfile
+fspec
+tempfile
+isopen
+nsmsgerrorreadingfile
+readsize
+fspec
+getfilesize
+ptr
+readbuf
+prmalloc
+readsize
+readbuf
+nserroroutofmemory
+memset
+readbuf
+readsize
+readsize
+ngot
+tempfile
+read
+ptr
+readsize
+ngot
+readsize
+ngot
+ptr
+ngot
+readsize
+tempfile
+close
+nscautostring
+sigencoding
+sigencoding
+assign
+nsmsginparsemetacharset
+fspec
+prbool
+removesigcharset
+sigencoding
+isempty
+mcomposehtml
+sigencoding
+isempty
+sigencoding
+assign
+nsmsginfilesystemcharset
+nsfailed
+converttounicode
+sigencoding
+get
+readbuf
+sigdata
+sigdata
+assignwithconversion
+readbuf
+removesigcharset
+nsautostring
+metacharset
+metacharset
+assign
+nsliteralstring
+charset
+metacharset
+appendwithconversion
+sigencoding
+get
+nsastring
+constiterator
+realstart
+start
+end
+sigdata
+beginreading
+start
+sigdata
+endreading
+end
+realstart
+start
+findinreadable
+metacharset
+start
+end
+nscaseinsensitivestringcomparator
+sigdata
+cut
+distance
+realstart
+start
+distance
+start
+end
+prfreeif
+readbuf
+nsok
+nsresult
+nsmsgcompose
+buildquotedmessageandsignature
+nsassertion
+meditor
+buildquotedmessageandsignature
+but
+no
+editor
+meditor
+nserrorfailure
+quoteoriginalmessage
+mquoteuri
+get
+mwhatholder
+nsresult
+nsmsgcompose
+processsignature
+nsimsgidentity
+identity
+nsstring
+amsgbody
+nsresult
+rv
+nscautostring
+signativepath
+prbool
+usesigfile
+prfalse
+prbool
+htmlsig
+prfalse
+prbool
+imagesig
+prfalse
+nsautostring
+sigdata
+nsautostring
+sigoutput
+identity
+rv
+identity
+getattachsignature
+usesigfile
+nssucceeded
+rv
+usesigfile
+usesigfile
+prfalse
+nscomptr
+nsilocalfile
+sigfile
+rv
+identity
+getsignature
+getteraddrefs
+sigfile
+nssucceeded
+rv
+sigfile
+rv
+sigfile
+getnativepath
+signativepath
+nssucceeded
+rv
+signativepath
+isempty
+usesigfile
+prtrue
+usesigfile
+nsfailed
+rv
+nsok
+nsfilespec
+testspec
+signativepath
+get
+testspec
+exists
+nsok
+nscomptr
+nsiurl
+fileurl
+docreateinstance
+nsstandardurlcontractid
+fileurl
+fileurl
+setfilepath
+signativepath
+nscautostring
+fileext
+rv
+fileurl
+getfileextension
+fileext
+nssucceeded
+rv
+fileext
+isempty
+rv
+nsok
+nsxpidlcstring
+sigcontenttype
+nscomptr
+nsimimeservice
+mimefinder
+dogetservice
+nsmimeservicecontractid
+rv
+nssucceeded
+rv
+mimefinder
+mimefinder
+gettypefromextension
+fileext
+get
+gettercopies
+sigcontenttype
+sigcontenttype
+isempty
+imagesig
+plstrncasecmp
+sigcontenttype
+get
+image
+imagesig
+htmlsig
+plstrcasecmp
+sigcontenttype
+get
+texthtml
+htmlsig
+plstrcasecmp
+fileext
+get
+htm
+plstrcasecmp
+fileext
+get
+html
+htmlbreak
+br
+dashes
+htmlsigopen
+div
+moz
+signature
+htmlsigclose
+div
+preopen
+pre
+moz
+signature
+cols
+preopen
+preclose
+pre
+print
+wraplength
+getwraplength
+wraplength
+preopen
+prsmprintf
+preopen
+wraplength
+preopen
+nserroroutofmemory
+imagesig
+mcomposehtml
+sigoutput
+appendwithconversion
+htmlbreak
+sigoutput
+appendwithconversion
+htmlsigopen
+sigoutput
+appendwithconversion
+dashes
+sigoutput
+appendwithconversion
+htmlbreak
+sigoutput
+append
+nsliteralstring
+img
+src
+file
+sigoutput
+appendwithconversion
+testspec
+sigoutput
+append
+nsliteralstring
+border
+sigoutput
+appendwithconversion
+htmlsigclose
+mcomposehtml
+htmlsig
+converttexttohtml
+testspec
+sigdata
+mcomposehtml
+htmlsig
+converthtmltotext
+testspec
+sigdata
+loaddatafromfile
+testspec
+sigdata
+sigdata
+isempty
+mcomposehtml
+sigoutput
+appendwithconversion
+htmlbreak
+htmlsig
+sigoutput
+appendwithconversion
+htmlsigopen
+sigoutput
+appendwithconversion
+preopen
+sigoutput
+appendwithconversion
+crlf
+nsdependentsubstring
+firstfourchars
+sigdata
+firstfourchars
+equals
+nsliteralstring
+firstfourchars
+equals
+nsliteralstring
+sigoutput
+appendwithconversion
+dashes
+mcomposehtml
+htmlsig
+sigoutput
+appendwithconversion
+crlf
+mcomposehtml
+sigoutput
+appendwithconversion
+htmlbreak
+sigoutput
+append
+sigdata
+mcomposehtml
+htmlsig
+sigoutput
+appendwithconversion
+htmlsigclose
+sigoutput
+appendwithconversion
+preclose
+amsgbody
+append
+sigoutput
+prfree
+preopen
+nsok
+nsresult
+nsmsgcompose
+buildbodymessageandsignature
+prunichar
+bod
+nsnull
+nsresult
+rv
+nsok
+meditor
+nserrorfailure
+mcompfields
+getbody
+bod
+prbool
+addsignature
+mtype
+nsimsgcomptype
+new
+nsimsgcomptype
+reply
+nsimsgcomptype
+replyall
+nsimsgcomptype
+forwardasattachment
+nsimsgcomptype
+forwardinline
+nsimsgcomptype
+newspost
+nsimsgcomptype
+replytogroup
+nsimsgcomptype
+replytosender
+nsimsgcomptype
+replytosenderandgroup
+addsignature
+prtrue
+nsimsgcomptype
+draft
+nsimsgcomptype
+template
+addsignature
+prfalse
+nsimsgcomptype
+mailtourl
+addsignature
+bod
+bod
+addsignature
+prfalse
+nsautostring
+empty
+nsautostring
+bodstr
+bod
+nsautostring
+tsignature
+addsignature
+processsignature
+midentity
+tsignature
+rv
+convertandloadcomposewindow
+empty
+bodstr
+tsignature
+prfalse
+mcomposehtml
+prfreeif
+bod
+rv
+nsresult
+nsmsgcompose
+notifystatelisteners
+tstatelistenernotification
+anotificationtype
+nsresult
+aresult
+mstatelisteners
+nsok
+pruint
+numlisteners
+nsresult
+rv
+mstatelisteners
+count
+numlisteners
+nsfailed
+rv
+rv
+pruint
+numlisteners
+nscomptr
+nsimsgcomposestatelistener
+thislistener
+doqueryelementat
+mstatelisteners
+thislistener
+anotificationtype
+ecomposefieldsready
+thislistener
+notifycomposefieldsready
+ecomposeprocessdone
+thislistener
+composeprocessdone
+aresult
+esaveinfolderdone
+thislistener
+saveinfolderdone
+mfoldername
+get
+nsnotreached
+unknown
+notification
+nsok
+nsresult
+nsmsgcompose
+attachmentprettyname
+url
+prunichar
+retval
+nscautostring
+unescapeurl
+url
+nsunescape
+nsconstcast
+unescapeurl
+get
+unescapeurl
+isempty
+nsautostring
+unicodeurl
+unicodeurl
+assignwithconversion
+url
+retval
+tonewunicode
+unicodeurl
+nsok
+plstrncasestr
+unescapeurl
+get
+file
+nsfileurl
+fileurl
+url
+nsfilespec
+filespec
+fileurl
+leafname
+filespec
+getleafname
+leafname
+leafname
+ifdef
+mozunicode
+retval
+tonewunicode
+nsconvertutftoucs
+leafname
+nsautostring
+tempstr
+nsresult
+rv
+converttounicode
+nsmsginfilesystemcharset
+leafname
+tempstr
+nsfailed
+rv
+tempstr
+assignwithconversion
+leafname
+retval
+tonewunicode
+tempstr
+endif
+nscrt
+free
+leafname
+nsok
+plstrncasestr
+unescapeurl
+get
+unescapeurl
+cut
+retval
+tonewunicode
+unescapeurl
+nsok
+nsresult
+openaddressbook
+dburi
+nsiaddrdatabase
+adatabase
+nsensureargpointer
+adatabase
+nsresult
+rv
+nscomptr
+nsiaddressbook
+addressbook
+dogetservice
+nsaddressbookcontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+addressbook
+getabdatabasefromuri
+dburi
+adatabase
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsmsgcompose
+getabdirectories
+nsacstring
+diruri
+nsisupportsarray
+directoriesarray
+prbool
+searchsubdirectory
+prbool
+collectedaddressbookfound
+diruri
+equals
+nsliteralcstring
+kmdbdirectoryroot
+collectedaddressbookfound
+prfalse
+nsresult
+rv
+nsok
+nscomptr
+nsirdfservice
+rdfservice
+dogetservice
+rdf
+rdf
+service
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsirdfresource
+resource
+rv
+rdfservice
+getresource
+diruri
+getteraddrefs
+resource
+nsfailed
+rv
+rv
+nscomptr
+nsiabdirectory
+directory
+doqueryinterface
+resource
+rv
+nsfailed
+rv
+rv
+searchsubdirectory
+rv
+nscomptr
+nsienumerator
+subdirectories
+nssucceeded
+directory
+getchildnodes
+getteraddrefs
+subdirectories
+subdirectories
+nscomptr
+nsisupports
+item
+nssucceeded
+subdirectories
+first
+nssucceeded
+subdirectories
+currentitem
+getteraddrefs
+item
+directory
+doqueryinterface
+item
+rv
+nssucceeded
+rv
+prbool
+bismaillist
+nssucceeded
+directory
+getismaillist
+bismaillist
+bismaillist
+nscomptr
+nsirdfresource
+source
+doqueryinterface
+directory
+nsxpidlcstring
+uri
+rv
+source
+getvalue
+gettercopies
+uri
+nsensuresuccess
+rv
+rv
+print
+pos
+nscrt
+strcmp
+uri
+kpersonaladdressbookuri
+pos
+pruint
+count
+directoriesarray
+count
+count
+plstrcmp
+uri
+kcollectedaddressbookuri
+collectedaddressbookfound
+prtrue
+pos
+count
+collectedaddressbookfound
+count
+pos
+count
+pos
+count
+directoriesarray
+insertelementat
+directory
+pos
+rv
+getabdirectories
+uri
+directoriesarray
+prtrue
+nssucceeded
+subdirectories
+next
+rv
+nsresult
+nsmsgcompose
+buildmaillistarray
+nsiaddrdatabase
+database
+nsiabdirectory
+parentdir
+nsisupportsarray
+array
+nsresult
+rv
+nscomptr
+nsiabdirectory
+directory
+nscomptr
+nsienumerator
+subdirectories
+nssucceeded
+parentdir
+getchildnodes
+getteraddrefs
+subdirectories
+subdirectories
+nscomptr
+nsisupports
+item
+nssucceeded
+subdirectories
+first
+nssucceeded
+subdirectories
+currentitem
+getteraddrefs
+item
+directory
+doqueryinterface
+item
+rv
+nssucceeded
+rv
+prbool
+bismaillist
+nssucceeded
+directory
+getismaillist
+bismaillist
+bismaillist
+nsxpidlstring
+listname
+nsxpidlstring
+listdescription
+directory
+getdirname
+gettercopies
+listname
+directory
+getdescription
+gettercopies
+listdescription
+nsmsgmaillist
+maillist
+nsmsgmaillist
+nsautostring
+prunichar
+listname
+nsautostring
+prunichar
+listdescription
+directory
+maillist
+nserroroutofmemory
+nsaddref
+maillist
+rv
+array
+appendelement
+maillist
+nsfailed
+rv
+rv
+nsrelease
+maillist
+nssucceeded
+subdirectories
+next
+rv
+nsresult
+nsmsgcompose
+getmaillistaddresses
+nsstring
+name
+nsisupportsarray
+maillistarray
+nsisupportsarray
+addressesarray
+nsresult
+rv
+nscomptr
+nsienumerator
+enumerator
+rv
+maillistarray
+enumerate
+getteraddrefs
+enumerator
+nssucceeded
+rv
+rv
+enumerator
+first
+nssucceeded
+rv
+rv
+enumerator
+next
+nsmsgmaillist
+maillist
+rv
+enumerator
+currentitem
+nsisupports
+maillist
+nssucceeded
+rv
+maillist
+name
+equals
+maillist
+mfullname
+nscaseinsensitivestringcomparator
+maillist
+mdirectory
+nserrorfailure
+maillist
+mdirectory
+getaddresslists
+addressesarray
+nsrelease
+maillist
+nsok
+nsrelease
+maillist
+nserrorfailure
+define
+maxofrecipientarray
+nsimethodimp
+nsmsgcompose
+checkandpopulaterecipients
+prbool
+populatemaillist
+prbool
+returnnonhtmlrecipients
+prunichar
+nonhtmlrecipients
+pruint
+retval
+returnnonhtmlrecipients
+nonhtmlrecipients
+retval
+nserrorinvalidarg
+nsresult
+rv
+nsok
+print
+print
+print
+nonhtmlrecipients
+nonhtmlrecipients
+nsnull
+retval
+retval
+nsiabprefermailformat
+unknown
+nscomarray
+nsmsgrecipient
+recipientslist
+maxofrecipientarray
+nsxpidlstring
+originalrecipients
+maxofrecipientarray
+mcompfields
+getto
+gettercopies
+originalrecipients
+mcompfields
+getcc
+gettercopies
+originalrecipients
+mcompfields
+getbcc
+gettercopies
+originalrecipients
+nscomptr
+nsimsgrecipientarray
+addressarray
+nscomptr
+nsimsgrecipientarray
+emailarray
+maxofrecipientarray
+originalrecipients
+isempty
+rv
+mcompfields
+splitrecipientsex
+prunichar
+originalrecipients
+getteraddrefs
+addressarray
+getteraddrefs
+emailarray
+nssucceeded
+rv
+print
+nbrrecipients
+nsxpidlstring
+emailaddr
+nsxpidlstring
+addr
+addressarray
+getcount
+nbrrecipients
+nbrrecipients
+rv
+addressarray
+stringat
+gettercopies
+addr
+nsfailed
+rv
+rv
+rv
+emailarray
+stringat
+gettercopies
+emailaddr
+nsfailed
+rv
+rv
+nsmsgrecipient
+recipient
+nsmsgrecipient
+nsautostring
+addr
+nsautostring
+emailaddr
+recipient
+nserroroutofmemory
+nsaddref
+recipient
+rv
+recipientslist
+appendobject
+recipient
+nsok
+nserrorfailure
+nsrelease
+recipient
+nsfailed
+rv
+rv
+rv
+prbool
+stillneedtosearch
+prtrue
+nscomptr
+nsiaddrdatabase
+abdatabase
+nscomptr
+nsiabdirectory
+abdirectory
+nscomptr
+nsiabcard
+existingcard
+nscomptr
+nsisupportsarray
+maillistaddresses
+nscomptr
+nsimsgheaderparser
+parser
+dogetservice
+nsmailnewsmimeheaderparsercontractid
+nscomptr
+nsisupportsarray
+maillistarray
+docreateinstance
+nssupportsarraycontractid
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsisupportsarray
+addrbookdirarray
+docreateinstance
+nssupportsarraycontractid
+rv
+nssucceeded
+rv
+addrbookdirarray
+nsstring
+dirpath
+getabdirectories
+nsliteralcstring
+kalldirectoryroot
+addrbookdirarray
+prtrue
+print
+nbrrecipients
+pruint
+nbraddressbook
+addrbookdirarray
+count
+nbraddressbook
+print
+nbraddressbook
+stillneedtosearch
+nscomptr
+nsisupports
+item
+addrbookdirarray
+getelementat
+getteraddrefs
+item
+abdirectory
+doqueryinterface
+item
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsirdfresource
+source
+doqueryinterface
+abdirectory
+nsxpidlcstring
+uri
+rv
+source
+getvalue
+gettercopies
+uri
+nsensuresuccess
+rv
+rv
+prbool
+supportsmailinglists
+rv
+abdirectory
+getsupportsmailinglists
+supportsmailinglists
+nsfailed
+rv
+supportsmailinglists
+rv
+openaddressbook
+uri
+get
+getteraddrefs
+abdatabase
+nsfailed
+rv
+abdatabase
+rv
+buildmaillistarray
+abdatabase
+abdirectory
+maillistarray
+nsfailed
+rv
+rv
+stillneedtosearch
+prfalse
+maxofrecipientarray
+nbrrecipients
+recipientslist
+count
+nbrrecipients
+nbrrecipients
+nbrrecipients
+recipientslist
+count
+nsmsgrecipient
+recipient
+recipientslist
+recipient
+recipient
+mprocessed
+nssucceeded
+getmaillistaddresses
+recipient
+maddress
+maillistarray
+getteraddrefs
+maillistaddresses
+populatemaillist
+pruint
+nbraddresses
+maillistaddresses
+count
+nbraddresses
+nbraddresses
+nbraddresses
+existingcard
+doqueryelementat
+maillistaddresses
+nbraddresses
+rv
+nsfailed
+rv
+rv
+nsxpidlstring
+pdisplayname
+nsxpidlstring
+pemail
+nsautostring
+fullnamestr
+prbool
+bismaillist
+rv
+existingcard
+getismaillist
+bismaillist
+nsfailed
+rv
+rv
+rv
+existingcard
+getdisplayname
+gettercopies
+pdisplayname
+nsfailed
+rv
+rv
+bismaillist
+rv
+existingcard
+getnotes
+gettercopies
+pemail
+rv
+existingcard
+getprimaryemail
+gettercopies
+pemail
+nsfailed
+rv
+rv
+parser
+nsxpidlcstring
+fulladdress
+parser
+makefulladdress
+nsnull
+nsconvertucstoutf
+pdisplayname
+get
+nsconvertucstoutf
+pemail
+get
+gettercopies
+fulladdress
+fulladdress
+isempty
+converttounicode
+msgcompheaderinternalcharset
+fulladdress
+get
+fullnamestr
+fullnamestr
+isempty
+fullnamestr
+pdisplayname
+fullnamestr
+append
+nsliteralstring
+bismaillist
+pemail
+pemail
+fullnamestr
+pemail
+fullnamestr
+pdisplayname
+fullnamestr
+pemail
+fullnamestr
+append
+prunichar
+fullnamestr
+isempty
+nsmsgrecipient
+newrecipient
+nsmsgrecipient
+fullnamestr
+nsautostring
+pemail
+recipient
+nserroroutofmemory
+nsaddref
+newrecipient
+bismaillist
+stillneedtosearch
+prtrue
+newrecipient
+mpreferformat
+nsiabprefermailformat
+unknown
+rv
+existingcard
+getprefermailformat
+newrecipient
+mpreferformat
+nssucceeded
+rv
+recipient
+mprocessed
+prtrue
+rv
+recipientslist
+insertobjectat
+newrecipient
+nsok
+nserrorfailure
+nsrelease
+newrecipient
+nsfailed
+rv
+rv
+rv
+recipientslist
+removeobjectat
+nsok
+nserrorfailure
+recipient
+mprocessed
+prtrue
+rv
+abdatabase
+getcardfromattribute
+abdirectory
+kpriemailcolumn
+nslossyconvertucstoascii
+recipient
+memail
+get
+prfalse
+getteraddrefs
+existingcard
+nssucceeded
+rv
+existingcard
+recipient
+mpreferformat
+nsiabprefermailformat
+unknown
+rv
+existingcard
+getprefermailformat
+recipient
+mpreferformat
+nssucceeded
+rv
+recipient
+mprocessed
+prtrue
+stillneedtosearch
+prtrue
+abdatabase
+abdatabase
+close
+prfalse
+nsautostring
+recipientsstr
+nsautostring
+nonhtmlrecipientsstr
+nsautostring
+plaintextdomains
+nsautostring
+htmldomains
+nsautostring
+domain
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+prefs
+nsxpidlstring
+str
+prefs
+copyunicharpref
+mailnews
+plaintextdomains
+gettercopies
+str
+plaintextdomains
+str
+prefs
+copyunicharpref
+mailnews
+htmldomains
+gettercopies
+str
+htmldomains
+str
+retval
+nsiabprefermailformat
+html
+maxofrecipientarray
+print
+nbrrecipients
+recipientslist
+count
+nbrrecipients
+recipientsstr
+setlength
+nbrrecipients
+nsmsgrecipient
+recipient
+recipientslist
+recipient
+recipient
+mpreferformat
+nsiabprefermailformat
+unknown
+plaintextdomains
+length
+htmldomains
+length
+print
+atpos
+recipient
+memail
+findchar
+atpos
+recipient
+memail
+right
+domain
+recipient
+memail
+length
+atpos
+findinreadable
+domain
+plaintextdomains
+nscaseinsensitivestringcomparator
+recipient
+mpreferformat
+nsiabprefermailformat
+plaintext
+findinreadable
+domain
+htmldomains
+nscaseinsensitivestringcomparator
+recipient
+mpreferformat
+nsiabprefermailformat
+html
+recipient
+mpreferformat
+nsiabprefermailformat
+html
+nsiabprefermailformat
+plaintext
+retval
+nsiabprefermailformat
+html
+retval
+nsiabprefermailformat
+plaintext
+retval
+nsiabprefermailformat
+unknown
+populatemaillist
+recipientsstr
+isempty
+recipientsstr
+append
+prunichar
+recipientsstr
+append
+recipient
+maddress
+returnnonhtmlrecipients
+recipient
+mpreferformat
+nsiabprefermailformat
+html
+nonhtmlrecipientsstr
+isempty
+nonhtmlrecipientsstr
+append
+prunichar
+nonhtmlrecipientsstr
+append
+recipient
+memail
+populatemaillist
+mcompfields
+setto
+recipientsstr
+get
+mcompfields
+setcc
+recipientsstr
+get
+mcompfields
+setbcc
+recipientsstr
+get
+returnnonhtmlrecipients
+nonhtmlrecipients
+tonewunicode
+nonhtmlrecipientsstr
+rv
+nsresult
+nsmsgcompose
+getnohtmlnewsgroups
+newsgroups
+retval
+nsresult
+rv
+nserrornotimplemented
+retval
+nsnull
+rv
+nsresult
+nsmsgcompose
+tagconvertible
+nsidomnode
+node
+print
+retval
+nsresult
+rv
+retval
+nsimsgcompconvertible
+no
+nsautostring
+elementstr
+rv
+node
+getnodename
+elementstr
+nsfailed
+rv
+rv
+nscautostring
+element
+element
+assignwithconversion
+elementstr
+nscomptr
+nsidomnode
+pitem
+element
+equalsignorecase
+text
+element
+equalsignorecase
+br
+element
+equalsignorecase
+element
+equalsignorecase
+pre
+element
+equalsignorecase
+tt
+element
+equalsignorecase
+html
+element
+equalsignorecase
+head
+element
+equalsignorecase
+title
+retval
+nsimsgcompconvertible
+plain
+element
+equalsignorecase
+ul
+element
+equalsignorecase
+ol
+element
+equalsignorecase
+li
+element
+equalsignorecase
+dl
+element
+equalsignorecase
+dt
+element
+equalsignorecase
+dd
+retval
+nsimsgcompconvertible
+yes
+element
+equalsignorecase
+element
+equalsignorecase
+element
+equalsignorecase
+element
+equalsignorecase
+element
+equalsignorecase
+element
+equalsignorecase
+element
+equalsignorecase
+hr
+mconvertstructs
+element
+equalsignorecase
+em
+element
+equalsignorecase
+strong
+element
+equalsignorecase
+code
+element
+equalsignorecase
+element
+equalsignorecase
+element
+equalsignorecase
+retval
+nsimsgcompconvertible
+altering
+element
+equalsignorecase
+body
+retval
+nsimsgcompconvertible
+plain
+nscomptr
+nsidomelement
+domelement
+doqueryinterface
+node
+domelement
+prbool
+hasattribute
+nsautostring
+color
+nssucceeded
+domelement
+hasattribute
+nsliteralstring
+background
+hasattribute
+hasattribute
+retval
+nsimsgcompconvertible
+no
+nssucceeded
+domelement
+hasattribute
+nsliteralstring
+text
+hasattribute
+hasattribute
+nssucceeded
+domelement
+getattribute
+nsliteralstring
+text
+color
+color
+equals
+nsliteralstring
+retval
+nsimsgcompconvertible
+altering
+nssucceeded
+domelement
+hasattribute
+nsliteralstring
+bgcolor
+hasattribute
+hasattribute
+nssucceeded
+domelement
+getattribute
+nsliteralstring
+bgcolor
+color
+color
+equals
+nsliteralstring
+ffffff
+nscaseinsensitivestringcomparator
+retval
+nsimsgcompconvertible
+altering
+element
+equalsignorecase
+blockquote
+retval
+nsimsgcompconvertible
+yes
+nscomptr
+nsidomnamednodemap
+pattributes
+nssucceeded
+node
+getattributes
+getteraddrefs
+pattributes
+pattributes
+nsautostring
+typename
+typename
+assign
+nsliteralstring
+type
+nssucceeded
+pattributes
+getnameditem
+typename
+getteraddrefs
+pitem
+pitem
+nsautostring
+typevalue
+nssucceeded
+pitem
+getnodevalue
+typevalue
+typevalue
+stripchars
+typevalue
+equals
+nsliteralstring
+cite
+nscaseinsensitivestringcomparator
+retval
+nsimsgcompconvertible
+plain
+element
+equalsignorecase
+div
+element
+equalsignorecase
+span
+element
+equalsignorecase
+nscomptr
+nsidomnamednodemap
+pattributes
+nssucceeded
+node
+getattributes
+getteraddrefs
+pattributes
+pattributes
+nsautostring
+classname
+classname
+assign
+nsliteralstring
+nssucceeded
+pattributes
+getnameditem
+classname
+getteraddrefs
+pitem
+pitem
+nsautostring
+classvalue
+nssucceeded
+pitem
+getnodevalue
+classvalue
+classvalue
+equalsignorecase
+moz
+txt
+classvalue
+equalsignorecase
+moz
+txt
+retval
+nsimsgcompconvertible
+plain
+rv
+element
+equalsignorecase
+retval
+nsimsgcompconvertible
+altering
+nssucceeded
+node
+getattributes
+getteraddrefs
+pattributes
+pattributes
+nsautostring
+hrefname
+hrefname
+assign
+nsliteralstring
+href
+nssucceeded
+pattributes
+getnameditem
+hrefname
+getteraddrefs
+pitem
+pitem
+nsautostring
+hrefvalue
+prbool
+haschild
+nssucceeded
+pitem
+getnodevalue
+hrefvalue
+nssucceeded
+node
+haschildnodes
+haschild
+haschild
+nscomptr
+nsidomnodelist
+children
+nssucceeded
+node
+getchildnodes
+getteraddrefs
+children
+children
+nssucceeded
+children
+item
+getteraddrefs
+pitem
+pitem
+nsautostring
+textvalue
+nssucceeded
+pitem
+getnodevalue
+textvalue
+textvalue
+hrefvalue
+retval
+nsimsgcompconvertible
+plain
+element
+equalsignorecase
+div
+element
+equalsignorecase
+span
+retval
+nsimsgcompconvertible
+plain
+nssucceeded
+node
+getattributes
+getteraddrefs
+pattributes
+pattributes
+nsautostring
+stylename
+stylename
+assign
+nsliteralstring
+style
+nssucceeded
+pattributes
+getnameditem
+stylename
+getteraddrefs
+pitem
+pitem
+nsautostring
+stylevalue
+nssucceeded
+pitem
+getnodevalue
+stylevalue
+stylevalue
+isempty
+retval
+nsimsgcompconvertible
+no
+rv
+nsresult
+nsmsgcompose
+bodyconvertible
+nsidomnode
+node
+print
+retval
+nsensuretrue
+node
+retval
+nserrornullpointer
+nsresult
+rv
+print
+result
+rv
+tagconvertible
+node
+result
+nsfailed
+rv
+rv
+prbool
+haschild
+nssucceeded
+node
+haschildnodes
+haschild
+haschild
+nscomptr
+nsidomnodelist
+children
+nssucceeded
+node
+getchildnodes
+getteraddrefs
+children
+children
+pruint
+nbrofelements
+rv
+children
+getlength
+nbrofelements
+pruint
+nssucceeded
+rv
+nbrofelements
+nscomptr
+nsidomnode
+pitem
+nssucceeded
+children
+item
+getteraddrefs
+pitem
+pitem
+print
+curresult
+rv
+bodyconvertible
+pitem
+curresult
+nssucceeded
+rv
+curresult
+result
+result
+curresult
+retval
+result
+rv
+nsresult
+nsmsgcompose
+bodyconvertible
+print
+retval
+nsensuretrue
+retval
+nserrornullpointer
+nsresult
+rv
+meditor
+nserrorfailure
+nscomptr
+nsidomelement
+rootelement
+rv
+meditor
+getrootelement
+getteraddrefs
+rootelement
+nsfailed
+rv
+nsnull
+rootelement
+rv
+nscomptr
+nsidomnode
+node
+doqueryinterface
+rootelement
+nsnull
+node
+nserrorfailure
+bodyconvertible
+node
+retval
+nsresult
+nsmsgcompose
+setbodyattribute
+nsieditor
+editor
+nsidomelement
+element
+nsstring
+name
+nsstring
+value
+name
+trim
+name
+comparewithconversion
+text
+prtrue
+name
+comparewithconversion
+bgcolor
+prtrue
+name
+comparewithconversion
+link
+prtrue
+name
+comparewithconversion
+vlink
+prtrue
+name
+comparewithconversion
+alink
+prtrue
+name
+comparewithconversion
+background
+prtrue
+value
+trim
+value
+trim
+editor
+removeattribute
+element
+name
+editor
+setattribute
+element
+name
+value
+nsok
+nsresult
+nsmsgcompose
+setbodyattributes
+nsstring
+attributes
+nsresult
+rv
+nsok
+attributes
+isempty
+nsok
+meditor
+nserrorfailure
+nscomptr
+nsidomelement
+rootelement
+rv
+meditor
+getrootelement
+getteraddrefs
+rootelement
+nsfailed
+rv
+nsnull
+rootelement
+rv
+prunichar
+data
+prunichar
+attributes
+get
+prunichar
+start
+data
+prunichar
+end
+data
+attributes
+length
+prunichar
+delimiter
+nsautostring
+attributename
+nsautostring
+attributevalue
+data
+end
+data
+data
+data
+start
+data
+data
+delimiter
+attributename
+isempty
+attributename
+assign
+start
+data
+start
+start
+data
+start
+end
+start
+delimiter
+data
+delimiter
+delimiter
+delimiter
+attributevalue
+assign
+start
+data
+start
+rv
+setbodyattribute
+meditor
+rootelement
+attributename
+attributevalue
+nsensuresuccess
+rv
+rv
+start
+data
+attributename
+truncate
+attributevalue
+truncate
+delimiter
+data
+attributename
+isempty
+attributevalue
+isempty
+delimiter
+attributevalue
+assign
+start
+data
+start
+rv
+setbodyattribute
+meditor
+rootelement
+attributename
+attributevalue
+rv
+nsresult
+nsmsgcompose
+setsignature
+nsimsgidentity
+identity
+nsresult
+rv
+meditor
+nserrorfailure
+nscomptr
+nsidomelement
+rootelement
+rv
+meditor
+getrootelement
+getteraddrefs
+rootelement
+nsfailed
+rv
+nsnull
+rootelement
+rv
+nscomptr
+nsidomnode
+lastnode
+nscomptr
+nsidomnode
+node
+nscomptr
+nsidomnode
+tempnode
+nsautostring
+taglocalname
+rv
+rootelement
+getlastchild
+getteraddrefs
+lastnode
+nssucceeded
+rv
+nsnull
+lastnode
+node
+lastnode
+mcomposehtml
+nscomptr
+nsidomelement
+element
+doqueryinterface
+node
+element
+nsautostring
+attributename
+nsautostring
+attributevalue
+attributename
+assign
+nsliteralstring
+rv
+element
+getattribute
+attributename
+attributevalue
+nssucceeded
+rv
+attributevalue
+find
+moz
+signature
+prtrue
+knotfound
+meditor
+begintransaction
+node
+getprevioussibling
+getteraddrefs
+tempnode
+rv
+meditor
+deletenode
+node
+nsfailed
+rv
+meditor
+endtransaction
+rv
+tempnode
+tempnode
+getlocalname
+taglocalname
+taglocalname
+equals
+nsliteralstring
+br
+meditor
+deletenode
+tempnode
+meditor
+endtransaction
+pruint
+nodetype
+print
+searchstate
+node
+getnodetype
+nodetype
+node
+getlocalname
+taglocalname
+searchstate
+nodetype
+nsidomnode
+elementnode
+taglocalname
+equals
+nsliteralstring
+br
+searchstate
+searchstate
+nodetype
+nsidomnode
+textnode
+nsstring
+nodevalue
+node
+getnodevalue
+nodevalue
+nodevalue
+equals
+nsliteralstring
+searchstate
+nodetype
+nsidomnode
+elementnode
+taglocalname
+equals
+nsliteralstring
+br
+searchstate
+nodetype
+nsidomnode
+elementnode
+taglocalname
+equals
+nsliteralstring
+br
+searchstate
+searchstate
+tempnode
+node
+searchstate
+nssucceeded
+tempnode
+getprevioussibling
+getteraddrefs
+node
+node
+searchstate
+meditor
+begintransaction
+tempnode
+lastnode
+lastnode
+node
+node
+tempnode
+node
+getprevioussibling
+getteraddrefs
+tempnode
+rv
+meditor
+deletenode
+node
+nsfailed
+rv
+meditor
+endtransaction
+rv
+node
+lastnode
+tempnode
+meditor
+endtransaction
+nsautostring
+asignature
+processsignature
+identity
+asignature
+asignature
+isempty
+translatelineending
+asignature
+meditor
+begintransaction
+meditor
+endofdocument
+mcomposehtml
+nscomptr
+nsihtmleditor
+htmleditor
+doqueryinterface
+meditor
+rv
+htmleditor
+inserthtml
+asignature
+nscomptr
+nsiplaintexteditor
+texteditor
+doqueryinterface
+meditor
+rv
+texteditor
+inserttext
+asignature
+meditor
+endtransaction
+rv
+nsimethodimp
+nsmsgcompose
+checkcharsetconversion
+nsimsgidentity
+identity
+fallbackcharset
+prbool
+retval
+nsensureargpointer
+identity
+nsensureargpointer
+retval
+nsresult
+rv
+mcompfields
+checkcharsetconversion
+fallbackcharset
+retval
+nsensuresuccess
+rv
+rv
+retval
+nsxpidlstring
+fullname
+nsxpidlstring
+organization
+nsautostring
+identitystrings
+rv
+identity
+getfullname
+gettercopies
+fullname
+nsensuresuccess
+rv
+rv
+fullname
+identitystrings
+append
+fullname
+get
+rv
+identity
+getorganization
+gettercopies
+organization
+nsensuresuccess
+rv
+rv
+organization
+identitystrings
+append
+organization
+get
+identitystrings
+isempty
+charset
+fallbackcharset
+fallbackcharset
+fallbackcharset
+mcompfields
+getcharacterset
+retval
+nsmsgincheckdataincharsetrange
+charset
+identitystrings
+get
+fallbackcharset
+nsok
+nsimpladdref
+nsmsgrecipient
+nsimplrelease
+nsmsgrecipient
+nsinterfacemapbegin
+nsmsgrecipient
+nsinterfacemapentryambiguous
+nsisupports
+nsisupports
+nsinterfacemapend
+nsmsgrecipient
+nsmsgrecipient
+mpreferformat
+nsiabprefermailformat
+unknown
+mprocessed
+prfalse
+nsmsgrecipient
+nsmsgrecipient
+nsstring
+fulladdress
+nsstring
+email
+pruint
+preferformat
+prbool
+processed
+maddress
+fulladdress
+memail
+email
+mpreferformat
+preferformat
+mprocessed
+processed
+nsmsgrecipient
+nsmsgrecipient
+nsimpladdref
+nsmsgmaillist
+nsimplrelease
+nsmsgmaillist
+nsinterfacemapbegin
+nsmsgmaillist
+nsinterfacemapentryambiguous
+nsisupports
+nsisupports
+nsinterfacemapend
+nsmsgmaillist
+nsmsgmaillist
+nsmsgmaillist
+nsmsgmaillist
+nsstring
+listname
+nsstring
+listdescription
+nsiabdirectory
+directory
+mdirectory
+directory
+nscomptr
+nsimsgheaderparser
+parser
+dogetservice
+nsmailnewsmimeheaderparsercontractid
+parser
+nsxpidlcstring
+fulladdress
+nsxpidlcstring
+utfemail
+listdescription
+isempty
+utfemail
+adopt
+tonewutfstring
+listname
+utfemail
+adopt
+tonewutfstring
+listdescription
+parser
+makefulladdress
+nsnull
+nsconvertucstoutf
+listname
+get
+utfemail
+gettercopies
+fulladdress
+fulladdress
+isempty
+converttounicode
+msgcompheaderinternalcharset
+fulladdress
+mfullname
+mfullname
+isempty
+mfullname
+listname
+mfullname
+append
+nsliteralstring
+listdescription
+isempty
+mfullname
+listname
+mfullname
+listdescription
+mfullname
+append
+prunichar
+mdirectory
+directory
+nsmsgmaillist
+nsmsgmaillist nsresult
\ No newline at end of file
@@ -0,0 +1,66 @@
+nsmsgcomposecontenthandler
+nsmsgcomposeservice
+nsmsgcompcid
+nsichannel
+nsiuri
+nscrt
+nsdefinecid
+kmsgcomposeservicecid
+nsmsgcomposeservicecid
+nsmsgcomposecontenthandler
+nsmsgcomposecontenthandler
+nsimplisupports
+nsmsgcomposecontenthandler
+nsicontenthandler
+nsmsgcomposecontenthandler
+nsmsgcomposecontenthandler
+nsimethodimp
+nsmsgcomposecontenthandler
+handlecontent
+acontenttype
+acommand
+nsisupports
+awindowcontext
+nsirequest
+request
+nsresult
+rv
+nsok
+request
+nserrornullpointer
+nscrt
+strcasecmp
+acontenttype
+application
+mailto
+nscomptr
+nsiuri
+auri
+nscomptr
+nsichannel
+achannel
+doqueryinterface
+request
+achannel
+nserrorfailure
+rv
+achannel
+geturi
+getteraddrefs
+auri
+auri
+nscomptr
+nsimsgcomposeservice
+composeservice
+dogetservice
+kmsgcomposeservicecid
+rv
+nssucceeded
+rv
+rv
+composeservice
+opencomposewindowwithuri
+nsnull
+auri
+nserrorwonthandlecontent
+rv
\ No newline at end of file
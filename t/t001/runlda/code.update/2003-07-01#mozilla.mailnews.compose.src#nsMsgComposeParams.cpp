@@ -0,0 +1,174 @@
+nsmsgcomposeparams
+nsreadableutils
+nsmsgcomposeparams
+nsmsgcomposeparams
+mtype
+nsimsgcomptype
+new
+mformat
+nsimsgcompformat
+default
+mbodyislink
+prfalse
+nsimplisupports
+nsmsgcomposeparams
+nsimsgcomposeparams
+nsmsgcomposeparams
+nsmsgcomposeparams
+nsimethodimp
+nsmsgcomposeparams
+gettype
+msgcomposetype
+atype
+nsensureargpointer
+atype
+atype
+mtype
+nsok
+nsimethodimp
+nsmsgcomposeparams
+settype
+msgcomposetype
+atype
+mtype
+atype
+nsok
+nsimethodimp
+nsmsgcomposeparams
+getformat
+msgcomposeformat
+aformat
+nsensureargpointer
+aformat
+aformat
+mformat
+nsok
+nsimethodimp
+nsmsgcomposeparams
+setformat
+msgcomposeformat
+aformat
+mformat
+aformat
+nsok
+nsimethodimp
+nsmsgcomposeparams
+getoriginalmsguri
+aoriginalmsguri
+nsensureargpointer
+aoriginalmsguri
+aoriginalmsguri
+tonewcstring
+moriginalmsguri
+nsok
+nsimethodimp
+nsmsgcomposeparams
+setoriginalmsguri
+aoriginalmsguri
+moriginalmsguri
+aoriginalmsguri
+nsok
+nsimethodimp
+nsmsgcomposeparams
+getidentity
+nsimsgidentity
+aidentity
+nsensureargpointer
+aidentity
+midentity
+aidentity
+midentity
+nsaddref
+aidentity
+aidentity
+nsnull
+nsok
+nsimethodimp
+nsmsgcomposeparams
+setidentity
+nsimsgidentity
+aidentity
+midentity
+aidentity
+nsok
+nsimethodimp
+nsmsgcomposeparams
+getcomposefields
+nsimsgcompfields
+acomposefields
+nsensureargpointer
+acomposefields
+mcomposefields
+acomposefields
+mcomposefields
+nsaddref
+acomposefields
+acomposefields
+nsnull
+nsok
+nsimethodimp
+nsmsgcomposeparams
+setcomposefields
+nsimsgcompfields
+acomposefields
+mcomposefields
+acomposefields
+nsok
+nsimethodimp
+nsmsgcomposeparams
+getbodyislink
+prbool
+abodyislink
+nsensureargpointer
+abodyislink
+abodyislink
+mbodyislink
+nsok
+nsimethodimp
+nsmsgcomposeparams
+setbodyislink
+prbool
+abodyislink
+mbodyislink
+abodyislink
+nsok
+nsimethodimp
+nsmsgcomposeparams
+getsendlistener
+nsimsgsendlistener
+asendlistener
+nsensureargpointer
+asendlistener
+msendlistener
+asendlistener
+msendlistener
+nsaddref
+asendlistener
+asendlistener
+nsnull
+nsok
+nsimethodimp
+nsmsgcomposeparams
+setsendlistener
+nsimsgsendlistener
+asendlistener
+msendlistener
+asendlistener
+nsok
+nsimethodimp
+nsmsgcomposeparams
+getsmtppassword
+asmtppassword
+nsensureargpointer
+asmtppassword
+asmtppassword
+tonewcstring
+msmtppassword
+nsok
+nsimethodimp
+nsmsgcomposeparams
+setsmtppassword
+asmtppassword
+msmtppassword
+asmtppassword
+nsok
\ No newline at end of file
@@ -0,0 +1,1688 @@
+ifdef
+mozlogging
+define
+forceprlog
+endif
+nsmsgcomposeservice
+nsmsgcompcid
+nsisupportsarray
+nsiservicemanager
+nsiobserverservice
+nsxpidlstring
+nsimsgidentity
+nsismtpurl
+nsiuri
+nsmsgin
+nsimsgdraft
+nsimsgcomposeparams
+nsxpcom
+nsisupportsprimitives
+nsiwindowwatcher
+nsidomwindow
+nsescape
+nsicontentviewer
+nsidocshell
+nsiscriptglobalobject
+nsiwebshell
+nsiwebshellwindow
+nsidomdocument
+nsidomelement
+nsixulwindow
+nsiwindowmediator
+nsidocshelltreeitem
+nsidocshelltreeowner
+nsibasewindow
+nsipref
+nsiprefbranchinternal
+nsmsgbasecid
+nsimsgaccountmanager
+ifdef
+msgcomptraceperformance
+prlog
+nsimsghdr
+nsimsgmessageservice
+nsmsgutils
+endif
+nsiparser
+nsparserciid
+nsicontentsink
+mozisanitizingserializer
+nsdefinecid
+kparsercid
+nsparsercid
+nsdefinecid
+knavdtdcid
+nscnavdtdcid
+ifdef
+nsdebug
+prbool
+justtobesurewecreateonlyonecomposeservice
+prfalse
+endif
+define
+defaultchrome
+messenger
+content
+messengercompose
+messengercompose
+xul
+define
+prefmailcomposemaxrecycledwindows
+mail
+compose
+maxrecycledwindows
+define
+mailrootpref
+mail
+define
+mailnewsrootpref
+mailnews
+define
+htmldomainupdateversionprefname
+globalhtmldomains
+version
+define
+htmldomainupdatedomainlistprefname
+globalhtmldomains
+define
+usercurrenthtmldomainlistprefname
+htmldomains
+define
+usercurrentplaintextdomainlistprefname
+plaintextdomains
+define
+domaindelimiter
+ifdef
+msgcomptraceperformance
+prlogmoduleinfo
+msgcomposelogmodule
+nsnull
+pruint
+getmessagesizefromuri
+originalmsguri
+pruint
+msgsize
+originalmsguri
+originalmsguri
+nscomptr
+nsimsgdbhdr
+originalmsghdr
+getmsgdbhdrfromuri
+originalmsguri
+getteraddrefs
+originalmsghdr
+originalmsghdr
+originalmsghdr
+getmessagesize
+msgsize
+msgsize
+endif
+nsmsgcomposeservice
+nsmsgcomposeservice
+ifdef
+nsdebug
+nsassertion
+justtobesurewecreateonlyonecomposeservice
+you
+cannot
+create
+several
+message
+compose
+service
+justtobesurewecreateonlyonecomposeservice
+prtrue
+endif
+mlogcomposeperformance
+prfalse
+ifdef
+msgcomptraceperformance
+msgcomposelogmodule
+msgcomposelogmodule
+prnewlogmodule
+msgcompose
+mstarttime
+printervalnow
+mprevioustime
+mstarttime
+endif
+mmaxrecycledwindows
+mcachedwindows
+nsnull
+nsimplisupports
+nsmsgcomposeservice
+nsimsgcomposeservice
+nsiobserver
+nsicmdlinehandler
+nsisupportsweakreference
+nsmsgcomposeservice
+nsmsgcomposeservice
+mcachedwindows
+deletecachedwindows
+mcachedwindows
+nsresult
+nsmsgcomposeservice
+init
+nsresult
+rv
+nsok
+nscomptr
+nsiprefservice
+prefservice
+dogetservice
+nsprefcontractid
+prefservice
+nserrorfailure
+nscomptr
+nsiobserverservice
+observerservice
+dogetservice
+observer
+service
+rv
+nssucceeded
+rv
+rv
+observerservice
+addobserver
+nsxpcomshutdownobserverid
+prtrue
+rv
+observerservice
+addobserver
+profile
+change
+prtrue
+nscomptr
+nsiprefbranch
+prefs
+rv
+prefservice
+getbranch
+nsnull
+getteraddrefs
+prefs
+nssucceeded
+rv
+nscomptr
+nsiprefbranchinternal
+pbi
+doqueryinterface
+prefs
+rv
+nssucceeded
+rv
+rv
+pbi
+addobserver
+prefmailcomposemaxrecycledwindows
+prtrue
+reset
+addglobalhtmldomains
+rv
+nsmsgcomposeservice
+reset
+nsresult
+rv
+nsok
+mcachedwindows
+deletecachedwindows
+mcachedwindows
+mcachedwindows
+nsnull
+mmaxrecycledwindows
+nscomptr
+nsiprefservice
+prefservice
+dogetservice
+nsprefcontractid
+prefservice
+nscomptr
+nsiprefbranch
+prefs
+rv
+prefservice
+getbranch
+nsnull
+getteraddrefs
+prefs
+nsfailed
+rv
+rv
+prefs
+getintpref
+prefmailcomposemaxrecycledwindows
+mmaxrecycledwindows
+nssucceeded
+rv
+mmaxrecycledwindows
+mcachedwindows
+nsmsgcachedwindowinfo
+mmaxrecycledwindows
+mcachedwindows
+mmaxrecycledwindows
+rv
+prefs
+getboolpref
+mailnews
+logcomposeperformance
+mlogcomposeperformance
+nsmsgcomposeservice
+deletecachedwindows
+print
+mmaxrecycledwindows
+closewindow
+mcachedwindows
+window
+mcachedwindows
+clear
+nsresult
+nsmsgcomposeservice
+openwindow
+nsimsgcomposeparams
+params
+nsresult
+rv
+nsensureargpointer
+params
+nscomptr
+nsimsgidentity
+identity
+params
+getidentity
+getteraddrefs
+identity
+identity
+getdefaultidentity
+getteraddrefs
+identity
+params
+setidentity
+identity
+nsnull
+nscrt
+strcasecmp
+defaultchrome
+msgcomposeformat
+format
+params
+getformat
+format
+prbool
+composehtml
+prtrue
+rv
+determinecomposehtml
+identity
+format
+composehtml
+nssucceeded
+rv
+print
+mmaxrecycledwindows
+mcachedwindows
+window
+mcachedwindows
+htmlcompose
+composehtml
+mcachedwindows
+listener
+nscomptr
+nsidomwindowinternal
+domwindow
+mcachedwindows
+window
+rv
+showcachedcomposewindow
+domwindow
+prtrue
+nssucceeded
+rv
+mcachedwindows
+listener
+onreopen
+params
+nsok
+nscomptr
+nsiwindowwatcher
+wwatch
+dogetservice
+nswindowwatchercontractid
+wwatch
+nserrorfailure
+nscomptr
+nsisupportsinterfacepointer
+msgparamswrapper
+docreateinstance
+nssupportsinterfacepointercontractid
+rv
+nsensuresuccess
+rv
+rv
+msgparamswrapper
+setdata
+params
+msgparamswrapper
+setdataiid
+nsgetiid
+nsimsgcomposeparams
+nscomptr
+nsidomwindow
+newwindow
+rv
+wwatch
+openwindow
+defaultchrome
+blank
+all
+dialog
+no
+status
+toolbar
+msgparamswrapper
+getteraddrefs
+newwindow
+rv
+nsmsgcomposeservice
+closewindow
+nsidomwindowinternal
+domwindow
+domwindow
+nscomptr
+nsidocshell
+docshell
+nscomptr
+nsiscriptglobalobject
+globalobj
+doqueryinterface
+domwindow
+globalobj
+globalobj
+getdocshell
+getteraddrefs
+docshell
+docshell
+nscomptr
+nsidocshelltreeitem
+treeitem
+doqueryinterface
+docshell
+treeitem
+nscomptr
+nsidocshelltreeowner
+treeowner
+treeitem
+gettreeowner
+getteraddrefs
+treeowner
+treeowner
+nscomptr
+nsibasewindow
+basewindow
+basewindow
+doqueryinterface
+treeowner
+basewindow
+basewindow
+destroy
+nsimethodimp
+nsmsgcomposeservice
+observe
+nsisupports
+asubject
+atopic
+prunichar
+somedata
+strcmp
+atopic
+profile
+change
+strcmp
+atopic
+nsxpcomshutdownobserverid
+deletecachedwindows
+nsok
+nscrt
+strcmp
+atopic
+nsprefbranchprefchangetopicid
+nsdependentstring
+prefname
+somedata
+prefname
+equals
+nsliteralstring
+prefmailcomposemaxrecycledwindows
+reset
+nsok
+nsok
+nsimethodimp
+nsmsgcomposeservice
+determinecomposehtml
+nsimsgidentity
+aidentity
+msgcomposeformat
+aformat
+prbool
+acomposehtml
+nsensureargpointer
+acomposehtml
+acomposehtml
+prtrue
+aformat
+nsimsgcompformat
+html
+acomposehtml
+prtrue
+nsimsgcompformat
+plaintext
+acomposehtml
+prfalse
+nscomptr
+nsimsgidentity
+identity
+aidentity
+identity
+getdefaultidentity
+getteraddrefs
+identity
+identity
+identity
+getcomposehtml
+acomposehtml
+aformat
+nsimsgcompformat
+oppositeofdefault
+acomposehtml
+acomposehtml
+nsresult
+rv
+nscomptr
+nsiprefservice
+prefservice
+dogetservice
+nsprefcontractid
+rv
+nssucceeded
+rv
+nscomptr
+nsiprefbranch
+prefs
+rv
+prefservice
+getbranch
+mailrootpref
+getteraddrefs
+prefs
+nssucceeded
+rv
+prbool
+usehtmlcompose
+rv
+prefs
+getboolpref
+htmlcompose
+usehtmlcompose
+nssucceeded
+rv
+acomposehtml
+usehtmlcompose
+nsok
+nsimethodimp
+nsmsgcomposeservice
+opencomposewindow
+msgcomposewindowurl
+originalmsguri
+msgcomposetype
+type
+msgcomposeformat
+format
+nsimsgidentity
+aidentity
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+nscomptr
+nsimsgidentity
+identity
+aidentity
+identity
+getdefaultidentity
+getteraddrefs
+identity
+type
+nsimsgcomptype
+forwardinline
+type
+nsimsgcomptype
+draft
+type
+nsimsgcomptype
+template
+nscomptr
+nsimsgdraft
+pmsgdraft
+docreateinstance
+nsmsgdraftcontractid
+rv
+nssucceeded
+rv
+pmsgdraft
+nscautostring
+uritoopen
+originalmsguri
+uritoopen
+append
+fetchcompletemessage
+type
+nsimsgcomptype
+forwardinline
+rv
+pmsgdraft
+opendraftmsg
+uritoopen
+get
+originalmsguri
+identity
+prtrue
+amsgwindow
+nsimsgcomptype
+draft
+rv
+pmsgdraft
+opendraftmsg
+uritoopen
+get
+nsnull
+identity
+prfalse
+amsgwindow
+nsimsgcomptype
+template
+rv
+pmsgdraft
+openeditortemplate
+uritoopen
+get
+identity
+amsgwindow
+rv
+nscomptr
+nsimsgcomposeparams
+pmsgcomposeparams
+docreateinstance
+nsmsgcomposeparamscontractid
+rv
+nssucceeded
+rv
+pmsgcomposeparams
+nscomptr
+nsimsgcompfields
+pmsgcompfields
+docreateinstance
+nsmsgcompfieldscontractid
+rv
+nssucceeded
+rv
+pmsgcompfields
+pmsgcomposeparams
+settype
+type
+pmsgcomposeparams
+setformat
+format
+pmsgcomposeparams
+setidentity
+identity
+originalmsguri
+originalmsguri
+type
+nsimsgcomptype
+newspost
+nscautostring
+newsuri
+originalmsguri
+nscautostring
+group
+nscautostring
+host
+print
+slashpos
+newsuri
+rfindchar
+slashpos
+newsuri
+left
+host
+slashpos
+newsuri
+right
+group
+newsuri
+length
+slashpos
+group
+originalmsguri
+pmsgcompfields
+setnewsgroups
+group
+get
+pmsgcompfields
+setnewshost
+host
+get
+pmsgcomposeparams
+setoriginalmsguri
+originalmsguri
+pmsgcomposeparams
+setcomposefields
+pmsgcompfields
+mlogcomposeperformance
+ifdef
+msgcomptraceperformance
+type
+nsimsgcomptype
+newspost
+buff
+sprintf
+buff
+start
+opening
+the
+window
+message
+size
+getmessagesizefromuri
+originalmsguri
+timestamp
+buff
+prtrue
+endif
+rv
+openwindow
+msgcomposewindowurl
+pmsgcomposeparams
+rv
+nsimethodimp
+nsmsgcomposeservice
+getparamsformailto
+nsiuri
+auri
+nsimsgcomposeparams
+aparams
+nsresult
+rv
+nsok
+auri
+nscomptr
+nsimailtourl
+amailtourl
+rv
+auri
+queryinterface
+nsgetiid
+nsimailtourl
+getteraddrefs
+amailtourl
+nssucceeded
+rv
+msgcomposeformat
+requestedcomposeformat
+nsimsgcompformat
+default
+nsxpidlcstring
+atopart
+nsxpidlcstring
+accpart
+nsxpidlcstring
+abccpart
+nsxpidlcstring
+asubjectpart
+nsxpidlcstring
+abodypart
+nsxpidlcstring
+anewsgroup
+nsxpidlcstring
+ahtmlbodypart
+amailtourl
+getmessagecontents
+gettercopies
+atopart
+gettercopies
+accpart
+gettercopies
+abccpart
+nsnull
+nsnull
+nsnull
+nsnull
+gettercopies
+asubjectpart
+gettercopies
+abodypart
+gettercopies
+ahtmlbodypart
+nsnull
+nsnull
+nsnull
+gettercopies
+anewsgroup
+nsnull
+requestedcomposeformat
+nsstring
+sanitizedbody
+nsstring
+rawbody
+nsconvertutftoucs
+ahtmlbodypart
+rawbody
+isempty
+rawbody
+nsconvertutftoucs
+abodypart
+prbool
+composehtmlformat
+determinecomposehtml
+requestedcomposeformat
+composehtmlformat
+rawbody
+isempty
+composehtmlformat
+nscomptr
+nsiparser
+parser
+docreateinstance
+kparsercid
+nscomptr
+nsicontentsink
+sink
+docreateinstance
+mozsanitizinghtmlserializercontractid
+nsxpidlcstring
+allowedtags
+nscomptr
+nsiprefservice
+prefservice
+dogetservice
+nsprefcontractid
+prefservice
+nscomptr
+nsiprefbranch
+prefs
+rv
+prefservice
+getbranch
+mailnewsrootpref
+getteraddrefs
+prefs
+nssucceeded
+rv
+prefs
+getcharpref
+display
+htmlsanitizer
+allowedtags
+gettercopies
+allowedtags
+parser
+sink
+nscomptr
+mozisanitizinghtmlserializer
+sansink
+doqueryinterface
+sink
+sansink
+sansink
+initialize
+sanitizedbody
+nsconvertasciitoucs
+allowedtags
+get
+parser
+setcontentsink
+sink
+nscomptr
+nsidtd
+dtd
+docreateinstance
+knavdtdcid
+dtd
+parser
+registerdtd
+dtd
+rv
+parser
+parse
+rawbody
+nsliteralcstring
+text
+html
+prfalse
+prtrue
+nsfailed
+rv
+composehtmlformat
+prfalse
+nscomptr
+nsimsgcomposeparams
+pmsgcomposeparams
+docreateinstance
+nsmsgcomposeparamscontractid
+rv
+nssucceeded
+rv
+pmsgcomposeparams
+pmsgcomposeparams
+settype
+nsimsgcomptype
+mailtourl
+pmsgcomposeparams
+setformat
+composehtmlformat
+nsimsgcompformat
+html
+nsimsgcompformat
+plaintext
+nscomptr
+nsimsgcompfields
+pmsgcompfields
+docreateinstance
+nsmsgcompfieldscontractid
+rv
+pmsgcompfields
+pmsgcompfields
+setto
+nsconvertutftoucs
+atopart
+get
+pmsgcompfields
+setcc
+nsconvertutftoucs
+accpart
+get
+pmsgcompfields
+setbcc
+nsconvertutftoucs
+abccpart
+get
+pmsgcompfields
+setnewsgroups
+anewsgroup
+pmsgcompfields
+setsubject
+nsconvertutftoucs
+asubjectpart
+get
+pmsgcompfields
+setbody
+composehtmlformat
+sanitizedbody
+get
+rawbody
+get
+pmsgcomposeparams
+setcomposefields
+pmsgcompfields
+nsaddref
+aparams
+pmsgcomposeparams
+nsok
+aparams
+nsnull
+nserrorfailure
+nsimethodimp
+nsmsgcomposeservice
+opencomposewindowwithuri
+amsgcomposewindowurl
+nsiuri
+auri
+nscomptr
+nsimsgcomposeparams
+pmsgcomposeparams
+nsresult
+rv
+getparamsformailto
+auri
+getteraddrefs
+pmsgcomposeparams
+nssucceeded
+rv
+rv
+opencomposewindowwithparams
+amsgcomposewindowurl
+pmsgcomposeparams
+rv
+nsresult
+nsmsgcomposeservice
+opencomposewindowwithvalues
+msgcomposewindowurl
+msgcomposetype
+type
+msgcomposeformat
+format
+prunichar
+to
+prunichar
+cc
+prunichar
+bcc
+newsgroups
+prunichar
+subject
+prunichar
+body
+attachment
+nsimsgidentity
+identity
+nsassertion
+nsmsgcomposeservice
+opencomposewindowwithvalues
+is
+supported
+anymore
+use
+opencomposewindowwithparams
+instead
+nsresult
+rv
+nscomptr
+nsimsgcompfields
+pcompfields
+docreateinstance
+nsmsgcompfieldscontractid
+rv
+nssucceeded
+rv
+pcompfields
+to
+pcompfields
+setto
+to
+cc
+pcompfields
+setcc
+cc
+bcc
+pcompfields
+setbcc
+bcc
+newsgroups
+pcompfields
+setnewsgroups
+newsgroups
+subject
+pcompfields
+setsubject
+subject
+body
+pcompfields
+setbody
+body
+rv
+opencomposewindowwithcompfields
+msgcomposewindowurl
+type
+format
+pcompfields
+identity
+rv
+nsresult
+nsmsgcomposeservice
+opencomposewindowwithcompfields
+msgcomposewindowurl
+msgcomposetype
+type
+msgcomposeformat
+format
+nsimsgcompfields
+compfields
+nsimsgidentity
+identity
+nsassertion
+nsmsgcomposeservice
+opencomposewindowwithcompfields
+is
+supported
+anymore
+use
+opencomposewindowwithparams
+instead
+nsresult
+rv
+nscomptr
+nsimsgcomposeparams
+pmsgcomposeparams
+docreateinstance
+nsmsgcomposeparamscontractid
+rv
+nssucceeded
+rv
+pmsgcomposeparams
+pmsgcomposeparams
+settype
+type
+pmsgcomposeparams
+setformat
+format
+pmsgcomposeparams
+setidentity
+identity
+pmsgcomposeparams
+setcomposefields
+compfields
+mlogcomposeperformance
+ifdef
+msgcomptraceperformance
+timestamp
+start
+opening
+the
+window
+prtrue
+endif
+rv
+openwindow
+msgcomposewindowurl
+pmsgcomposeparams
+rv
+nsresult
+nsmsgcomposeservice
+opencomposewindowwithparams
+msgcomposewindowurl
+nsimsgcomposeparams
+params
+nsensureargpointer
+params
+mlogcomposeperformance
+ifdef
+msgcomptraceperformance
+timestamp
+start
+opening
+the
+window
+prtrue
+endif
+openwindow
+msgcomposewindowurl
+params
+nsimethodimp
+nsmsgcomposeservice
+initcompose
+nsidomwindowinternal
+awindow
+nsimsgcomposeparams
+params
+nsimsgcompose
+retval
+nsresult
+rv
+print
+mmaxrecycledwindows
+mcachedwindows
+window
+awindow
+mcachedwindows
+clear
+nscomptr
+nsimsgcompose
+msgcompose
+docreateinstance
+nsmsgcomposecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+msgcompose
+initialize
+awindow
+params
+nsensuresuccess
+rv
+rv
+nsifaddref
+retval
+msgcompose
+rv
+nsimethodimp
+nsmsgcomposeservice
+getdefaultidentity
+nsimsgidentity
+retval
+nsensureargpointer
+retval
+retval
+nsnull
+nsresult
+rv
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nssucceeded
+rv
+accountmanager
+nscomptr
+nsimsgaccount
+defaultaccount
+rv
+accountmanager
+getdefaultaccount
+getteraddrefs
+defaultaccount
+nssucceeded
+rv
+defaultaccount
+defaultaccount
+getdefaultidentity
+retval
+rv
+nsimethodimp
+nsmsgcomposeservice
+getlogcomposeperformance
+prbool
+alogcomposeperformance
+alogcomposeperformance
+mlogcomposeperformance
+nsok
+nsimethodimp
+nsmsgcomposeservice
+timestamp
+label
+prbool
+resettime
+mlogcomposeperformance
+nsok
+ifdef
+msgcomptraceperformance
+printervaltime
+now
+resettime
+prlog
+msgcomposelogmodule
+prlogalways
+process
+totaltime
+deltatime
+mstarttime
+printervalnow
+mprevioustime
+mstarttime
+now
+mstarttime
+now
+printervalnow
+printervaltime
+totaltime
+printervaltomilliseconds
+now
+mstarttime
+printervaltime
+deltatime
+printervaltomilliseconds
+now
+mprevioustime
+defined
+debugducarroz
+printf
+xxx
+time
+stamp
+totaltime
+deltatime
+label
+endif
+prlog
+msgcomposelogmodule
+prlogalways
+totaltime
+deltatime
+label
+mprevioustime
+now
+endif
+nsok
+nsimethodimp
+nsmsgcomposeservice
+iscachedwindow
+nsidomwindowinternal
+acachedwindow
+prbool
+aiscachedwindow
+nsensureargpointer
+acachedwindow
+nsensureargpointer
+aiscachedwindow
+print
+mmaxrecycledwindows
+mcachedwindows
+window
+get
+acachedwindow
+aiscachedwindow
+prtrue
+nsok
+aiscachedwindow
+prfalse
+nsok
+nsimethodimp
+nsmsgcomposeservice
+cachewindow
+nsidomwindowinternal
+awindow
+prbool
+acomposehtml
+nsimsgcomposerecyclinglistener
+alistener
+nsensureargpointer
+awindow
+nsensureargpointer
+alistener
+nsresult
+rv
+print
+print
+sametypeid
+print
+oppositetypeid
+mmaxrecycledwindows
+mcachedwindows
+window
+rv
+showcachedcomposewindow
+awindow
+prfalse
+nssucceeded
+rv
+mcachedwindows
+initialize
+awindow
+alistener
+acomposehtml
+rv
+mcachedwindows
+htmlcompose
+acomposehtml
+sametypeid
+sametypeid
+oppositetypeid
+oppositetypeid
+sametypeid
+oppositetypeid
+closewindow
+mcachedwindows
+oppositetypeid
+window
+mcachedwindows
+oppositetypeid
+clear
+rv
+showcachedcomposewindow
+awindow
+prfalse
+nssucceeded
+rv
+mcachedwindows
+oppositetypeid
+initialize
+awindow
+alistener
+acomposehtml
+rv
+nserrornotavailable
+nsresult
+nsmsgcomposeservice
+showcachedcomposewindow
+nsidomwindowinternal
+acomposewindow
+prbool
+ashow
+nsresult
+rv
+nsok
+nscomptr
+nsiscriptglobalobject
+globalscript
+doqueryinterface
+acomposewindow
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsidocshell
+docshell
+rv
+globalscript
+getdocshell
+getteraddrefs
+docshell
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiwebshell
+webshell
+doqueryinterface
+docshell
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiwebshellcontainer
+webshellcontainer
+rv
+webshell
+getcontainer
+getteraddrefs
+webshellcontainer
+nsensuresuccess
+rv
+rv
+webshellcontainer
+nscomptr
+nsicontentviewer
+contentviewer
+rv
+docshell
+getcontentviewer
+getteraddrefs
+contentviewer
+nsensuresuccess
+rv
+rv
+rv
+contentviewer
+setsticky
+ashow
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiwebshellwindow
+webshellwindow
+doqueryinterface
+webshellcontainer
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsidocshelltreeitem
+treeitem
+doqueryinterface
+docshell
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsidocshelltreeowner
+treeowner
+rv
+treeitem
+gettreeowner
+getteraddrefs
+treeowner
+nsensuresuccess
+rv
+rv
+nscomptr
+nsibasewindow
+basewindow
+basewindow
+doqueryinterface
+treeowner
+rv
+nsensuresuccess
+rv
+rv
+basewindow
+setenabled
+ashow
+nsensuresuccess
+rv
+rv
+rv
+webshellwindow
+show
+ashow
+nsensuresuccess
+rv
+rv
+nscomptr
+nsixulwindow
+xulwindow
+doqueryinterface
+webshellwindow
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiwindowmediator
+windowmediator
+dogetservice
+nswindowmediatorcontractid
+rv
+nsensuresuccess
+rv
+rv
+ashow
+rv
+windowmediator
+registerwindow
+xulwindow
+rv
+windowmediator
+unregisterwindow
+xulwindow
+nsensuresuccess
+rv
+rv
+rv
+nserrorfailure
+rv
+nsresult
+nsmsgcomposeservice
+addglobalhtmldomains
+nsresult
+rv
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+rv
+prefs
+getbranch
+mailnewsrootpref
+getteraddrefs
+prefbranch
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefbranch
+defaultsprefbranch
+rv
+prefs
+getdefaultbranch
+mailnewsrootpref
+getteraddrefs
+defaultsprefbranch
+nsensuresuccess
+rv
+rv
+print
+htmldomainlistcurrentversion
+htmldomainlistdefaultversion
+rv
+prefbranch
+getintpref
+htmldomainupdateversionprefname
+htmldomainlistcurrentversion
+nsensuresuccess
+rv
+rv
+rv
+defaultsprefbranch
+getintpref
+htmldomainupdateversionprefname
+htmldomainlistdefaultversion
+nsensuresuccess
+rv
+rv
+htmldomainlistcurrentversion
+htmldomainlistdefaultversion
+nsxpidlcstring
+globalhtmldomainlist
+rv
+prefbranch
+getcharpref
+htmldomainupdatedomainlistprefname
+gettercopies
+globalhtmldomainlist
+nssucceeded
+rv
+globalhtmldomainlist
+isempty
+nsxpidlcstring
+currenthtmldomainlist
+rv
+prefbranch
+getcharpref
+usercurrenthtmldomainlistprefname
+gettercopies
+currenthtmldomainlist
+nsensuresuccess
+rv
+rv
+nscautostring
+newhtmldomainlist
+currenthtmldomainlist
+nscstringarray
+htmldomainarray
+currenthtmldomainlist
+isempty
+htmldomainarray
+parsestring
+currenthtmldomainlist
+get
+domaindelimiter
+nsxpidlcstring
+currentplaintextdomainlist
+rv
+prefbranch
+getcharpref
+usercurrentplaintextdomainlistprefname
+gettercopies
+currentplaintextdomainlist
+nsensuresuccess
+rv
+rv
+nscstringarray
+plaintextdomainarray
+currentplaintextdomainlist
+isempty
+plaintextdomainarray
+parsestring
+currentplaintextdomainlist
+get
+domaindelimiter
+htmldomainarray
+count
+plaintextdomainarray
+count
+newdata
+globaldata
+tonewcstring
+globalhtmldomainlist
+token
+nscrt
+strtok
+globaldata
+domaindelimiter
+newdata
+nscautostring
+htmldomain
+token
+token
+token
+htmldomain
+assign
+token
+htmldomain
+stripwhitespace
+htmldomainarray
+indexof
+htmldomain
+plaintextdomainarray
+indexof
+htmldomain
+newhtmldomainlist
+isempty
+newhtmldomainlist
+domaindelimiter
+newhtmldomainlist
+htmldomain
+token
+nscrt
+strtok
+newdata
+domaindelimiter
+newdata
+prfreeif
+globaldata
+newhtmldomainlist
+globalhtmldomainlist
+rv
+prefbranch
+setcharpref
+usercurrenthtmldomainlistprefname
+newhtmldomainlist
+get
+nsensuresuccess
+rv
+rv
+rv
+prefbranch
+setintpref
+htmldomainupdateversionprefname
+htmldomainlistcurrentversion
+nsensuresuccess
+rv
+rv
+nsok
+cmdlinehandlerimpl
+nsmsgcomposeservice
+compose
+general
+startup
+messengercompose
+defaultchrome
+start
+with
+messenger
+compose
+nsmsgcomposestartuphandlercontractid
+messenger
+compose
+startup
+handler
+prtrue
+about
+blank
+prtrue nsresult
\ No newline at end of file
@@ -0,0 +1,195 @@
+nsmsgprompts
+nsmsgcopy
+nsipref
+nsimsgstringservice
+nsiprompt
+nsiwindowwatcher
+nsmsgcomposestringbundle
+nsxpidlstring
+nsmsgcompcid
+nsresult
+nsmsgbuilderrormessagebyid
+print
+msgid
+nsstring
+retval
+nsstring
+param
+nsstring
+param
+nsresult
+rv
+nscomptr
+nsimsgstringservice
+composebundle
+dogetservice
+nsmsgcomposestringservicecontractid
+rv
+nsxpidlstring
+msg
+composebundle
+composebundle
+getstringbyid
+msgid
+gettercopies
+msg
+retval
+msg
+nsstring
+target
+param
+target
+assign
+nsliteralstring
+retval
+replacesubstring
+target
+param
+param
+target
+assign
+nsliteralstring
+retval
+replacesubstring
+target
+param
+rv
+nsresult
+nsmsgdisplaymessagebyid
+nsiprompt
+aprompt
+print
+msgid
+prunichar
+windowtitle
+nsresult
+rv
+nscomptr
+nsimsgstringservice
+composebundle
+dogetservice
+nsmsgcomposestringservicecontractid
+rv
+nsxpidlstring
+msg
+composebundle
+composebundle
+getstringbyid
+msgid
+gettercopies
+msg
+rv
+nsmsgdisplaymessagebystring
+aprompt
+msg
+windowtitle
+rv
+nsresult
+nsmsgdisplaymessagebystring
+nsiprompt
+aprompt
+prunichar
+msg
+prunichar
+windowtitle
+nsresult
+rv
+nscomptr
+nsiprompt
+prompt
+aprompt
+msg
+msg
+nserrorinvalidarg
+prompt
+nscomptr
+nsiwindowwatcher
+wwatch
+dogetservice
+nswindowwatchercontractid
+wwatch
+wwatch
+getnewprompter
+getteraddrefs
+prompt
+prompt
+rv
+prompt
+alert
+windowtitle
+msg
+nsok
+nsresult
+nsmsgaskbooleanquestionbyid
+nsiprompt
+aprompt
+print
+msgid
+prbool
+answer
+prunichar
+windowtitle
+nscomptr
+nsimsgstringservice
+composebundle
+dogetservice
+nsmsgcomposestringservicecontractid
+nsxpidlstring
+msg
+composebundle
+composebundle
+getstringbyid
+msgid
+gettercopies
+msg
+nsmsgaskbooleanquestionbystring
+aprompt
+msg
+answer
+windowtitle
+nsok
+nsresult
+nsmsgaskbooleanquestionbystring
+nsiprompt
+aprompt
+prunichar
+msg
+prbool
+answer
+prunichar
+windowtitle
+nsresult
+rv
+print
+result
+nscomptr
+nsiprompt
+dialog
+aprompt
+msg
+msg
+nserrorinvalidarg
+dialog
+nscomptr
+nsiwindowwatcher
+wwatch
+dogetservice
+nswindowwatchercontractid
+wwatch
+wwatch
+getnewprompter
+getteraddrefs
+dialog
+dialog
+rv
+dialog
+confirm
+windowtitle
+msg
+result
+result
+answer
+prtrue
+answer
+prfalse
+nsok
\ No newline at end of file
@@ -0,0 +1,349 @@
+nsiurl
+nsiinputstream
+nsioutputstream
+nsigenericfactory
+nsiservicemanager
+nsistreamlistener
+nsistreamconverter
+nsistreamconverterservice
+nsimimestreamconverter
+nsmimetypes
+nsipref
+nsicharsetconvertermanager
+prprf
+nsmsgquote
+nsmsgcomputils
+nsimsgmessageservice
+nsmsgutils
+nsmsgdeliverylistener
+nsnetutil
+nsmsgmimecid
+nsmsgcompcid
+nsmsgcompose
+nsmsgmailnewsurl
+nsxpidlstring
+nsimplthreadsafeaddref
+nsmsgquotelistener
+nsimplthreadsaferelease
+nsmsgquotelistener
+nsinterfacemapbegin
+nsmsgquotelistener
+nsinterfacemapentryambiguous
+nsisupports
+nsimsgquotelistener
+nsinterfacemapentry
+nsimimestreamconverterlistener
+nsinterfacemapentry
+nsimsgquotelistener
+nsinterfacemapend
+nsmsgquotelistener
+nsmsgquotelistener
+nsmsgquotelistener
+nsmsgquotelistener
+nsimethodimp
+nsmsgquotelistener
+setmsgquote
+nsimsgquote
+msgquote
+mmsgquote
+dogetweakreference
+msgquote
+nsok
+nsimethodimp
+nsmsgquotelistener
+getmsgquote
+nsimsgquote
+amsgquote
+nsresult
+rv
+nsok
+amsgquote
+nscomptr
+nsimsgquote
+msgquote
+doqueryreferent
+mmsgquote
+amsgquote
+msgquote
+nsifaddref
+amsgquote
+rv
+nserrornullpointer
+rv
+nsresult
+nsmsgquotelistener
+onheadersready
+nsimimeheaders
+headers
+nscomptr
+nsistreamlistener
+astreamlistener
+nscomptr
+nsimsgquote
+msgquote
+doqueryreferent
+mmsgquote
+msgquote
+msgquote
+getstreamlistener
+getteraddrefs
+astreamlistener
+astreamlistener
+quotingoutputstreamlistener
+quoting
+nssucceeded
+astreamlistener
+queryinterface
+nsgetiid
+quotingoutputstreamlistener
+quoting
+quoting
+quoting
+setmimeheaders
+headers
+nsrelease
+quoting
+nserrorfailure
+nsok
+nsmsgquote
+nsmsgquote
+mquoteheaders
+prfalse
+mquotelistener
+nsnull
+nsmsgquote
+nsmsgquote
+nsimplthreadsafeaddref
+nsmsgquote
+nsimplthreadsaferelease
+nsmsgquote
+nsinterfacemapbegin
+nsmsgquote
+nsinterfacemapentryambiguous
+nsisupports
+nsimsgquote
+nsinterfacemapentry
+nsimsgquote
+nsinterfacemapentry
+nsisupportsweakreference
+nsinterfacemapend
+nsimethodimp
+nsmsgquote
+getstreamlistener
+nsistreamlistener
+astreamlistener
+nsresult
+rv
+nsok
+astreamlistener
+astreamlistener
+mstreamlistener
+nsifaddref
+astreamlistener
+rv
+nserrornullpointer
+rv
+nsresult
+nsmsgquote
+quotemessage
+msguri
+prbool
+quoteheaders
+nsistreamlistener
+aquotemsgstreamlistener
+amsgcharset
+prbool
+headersonly
+nsresult
+rv
+msguri
+nserrorinvalidarg
+mquoteheaders
+quoteheaders
+mstreamlistener
+aquotemsgstreamlistener
+nscomptr
+nsimsgmessageservice
+msgservice
+rv
+getmessageservicefromuri
+msguri
+getteraddrefs
+msgservice
+nsfailed
+rv
+rv
+nscomptr
+nsiuri
+aurl
+rv
+msgservice
+geturlforuri
+msguri
+getteraddrefs
+aurl
+nsnull
+nsfailed
+rv
+rv
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+aurl
+rv
+nsensuresuccess
+rv
+rv
+nscautostring
+querypart
+rv
+mailnewsurl
+getquery
+querypart
+querypart
+isempty
+querypart
+append
+headersonly
+querypart
+append
+header
+only
+quoteheaders
+querypart
+append
+header
+quote
+querypart
+append
+header
+quotebody
+rv
+mailnewsurl
+setquery
+querypart
+nsensuresuccess
+rv
+rv
+amsgcharset
+amsgcharset
+nscomptr
+nsimsginurl
+inurl
+doqueryinterface
+aurl
+inurl
+inurl
+setcharsetoverride
+amsgcharset
+mquotelistener
+docreateinstance
+nsmsgquotelistenercontractid
+rv
+nsfailed
+rv
+rv
+mquotelistener
+setmsgquote
+nsisupports
+supports
+queryinterface
+nsgetiid
+nsisupports
+supports
+nscomptr
+nsisupports
+quotesupport
+supports
+nsifrelease
+supports
+mquotechannel
+nsnull
+nscomptr
+nsiioservice
+netservice
+dogetservice
+nsioservicecontractid
+rv
+nsfailed
+rv
+rv
+rv
+netservice
+newchannelfromuri
+aurl
+getteraddrefs
+mquotechannel
+nsfailed
+rv
+rv
+nscomptr
+nsisupports
+ctxt
+doqueryinterface
+aurl
+nscomptr
+nsistreamconverterservice
+streamconverterservice
+dogetservice
+streamconverters
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsistreamlistener
+convertedlistener
+rv
+streamconverterservice
+asyncconvertdata
+nsliteralstring
+message
+rfc
+get
+nsliteralstring
+application
+vnd
+xul
+xml
+get
+mstreamlistener
+quotesupport
+getteraddrefs
+convertedlistener
+nsfailed
+rv
+rv
+rv
+mquotechannel
+asyncopen
+convertedlistener
+ctxt
+rv
+nsimethodimp
+nsmsgquote
+getquotelistener
+nsimimestreamconverterlistener
+aquotelistener
+aquotelistener
+mquotelistener
+nserrornullpointer
+aquotelistener
+mquotelistener
+nsaddref
+aquotelistener
+nsok
+nsimethodimp
+nsmsgquote
+getquotechannel
+nsichannel
+aquotechannel
+aquotechannel
+mquotechannel
+nserrornullpointer
+aquotechannel
+mquotechannel
+nsaddref
+aquotechannel
+nsok nsresult
\ No newline at end of file
@@ -0,0 +1,85 @@
+nsmsgrecipientarray
+nsstring
+nsreadableutils
+nsmsgrecipientarray
+nsmsgrecipientarray
+marray
+nsstringarray
+nsmsgrecipientarray
+nsmsgrecipientarray
+marray
+marray
+nsimplisupports
+nsmsgrecipientarray
+nsimsgrecipientarray
+nsresult
+nsmsgrecipientarray
+stringat
+print
+idx
+prunichar
+retval
+retval
+marray
+nserrornullpointer
+nsstring
+astr
+marray
+stringat
+idx
+astr
+retval
+tonewunicode
+astr
+nsok
+nsresult
+nsmsgrecipientarray
+appendstring
+prunichar
+astring
+prbool
+retval
+retval
+marray
+nserrornullpointer
+retval
+marray
+appendstring
+nsstring
+astring
+nsok
+nsresult
+nsmsgrecipientarray
+removestringat
+print
+idx
+prbool
+retval
+retval
+marray
+nserrornullpointer
+retval
+marray
+removestringat
+idx
+nsok
+nsresult
+nsmsgrecipientarray
+clear
+marray
+nserrornullpointer
+marray
+clear
+nsok
+nsresult
+nsmsgrecipientarray
+getcount
+print
+acount
+acount
+marray
+nserrornullpointer
+acount
+marray
+count
+nsok nsresult mailbox folder nsresult
\ No newline at end of file
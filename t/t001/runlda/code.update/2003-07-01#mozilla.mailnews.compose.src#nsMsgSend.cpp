@@ -0,0 +1,6458 @@
+nsmsgsend
+nscrt
+nsmsglocalfolderhdrs
+nsmsgsendpart
+nsmsgbasecid
+nsmsgnewscid
+nsimsgheaderparser
+nsismtpservice
+nsinntpservice
+nsimsgmailsession
+nsimsgidentity
+nsescape
+nsipref
+nsimsgmailnewsurl
+nsmsgdeliverylistener
+nsmsgcomposestringbundle
+nsmsgencoders
+nsmsgcomputils
+nsmsgin
+nsicharsetconvertermanager
+nsimsgsendlistener
+nsimsgcopyservicelistener
+nsifilespec
+nsiurl
+nsifileurl
+nsmsgcopy
+nsxpidlstring
+nsreadableutils
+nsunicharutils
+nsmsgprompts
+nsidomhtmlbodyelement
+nsidomhtmlimageelement
+nsidomhtmllinkelement
+nsidomhtmlanchorelement
+nscexternalhandlerservice
+nsimimeservice
+nsidocument
+nsidomdocument
+nsmsgcompcid
+nsifilespec
+nsiabaddresscollecter
+nsabbasecid
+nscomptr
+nsidnsservice
+mozitxttohtmlconv
+nsimsgstatusfeedback
+nsimsgmailsession
+nstextformatter
+nsiwebshell
+nsiprompt
+nsiappshellservice
+nsmailheaders
+nsidocshell
+nsmimetypes
+nsismtpurl
+nsiinterfacerequestor
+nsiinterfacerequestorutils
+nsieditormailsupport
+nsidocumentencoder
+nsiloadgroup
+nsmsgsendreport
+nsmsgsimulateerror
+nsnetcid
+nsneterror
+nsmsgutils
+nsirdfservice
+nsimsgmdngenerator
+nsismtpserver
+nsimsgcompose
+nsirdfservice
+nsrdfcid
+nsdefinecid
+kprefcid
+nsprefcid
+nsdefinecid
+krdfservicecid
+nsrdfservicecid
+define
+prefmailsendstruct
+mail
+sendstruct
+define
+prefmailstrictlymime
+mail
+strictlymime
+define
+prefmailmessagewarningsize
+mailnews
+messagewarningsize
+define
+prefmailcollectemailaddressoutgoing
+mail
+collectemailaddressoutgoing
+kdefaultmode
+prwronly
+prcreatefile
+prtruncate
+ifdef
+xpmac
+netgetlocalfilefromurl
+url
+finalpath
+nsassertion
+plstrncasecmp
+url
+file
+invalid
+url
+finalpath
+prmalloc
+strlen
+url
+finalpath
+nsnull
+nsnull
+strcpy
+finalpath
+url
+finalpath
+netgeturlfromlocalfile
+filename
+finalpath
+prmalloc
+strlen
+filename
+finalpath
+nsnull
+nsnull
+finalpath
+strcat
+finalpath
+file
+strcat
+finalpath
+filename
+finalpath
+endif
+prbool
+mimeusequotedprintablep
+prfalse
+prbool
+usequotedprintable
+mimeusequotedprintablep
+nsresult
+stripoutgroupnames
+addresses
+achar
+readptr
+addresses
+writeptr
+addresses
+previousseparator
+addresses
+endptr
+addresses
+plstrlen
+addresses
+prbool
+quoted
+prfalse
+prbool
+group
+prfalse
+prbool
+atfound
+prfalse
+readptr
+endptr
+achar
+readptr
+readptr
+achar
+readptr
+readptr
+quoted
+quoted
+quoted
+atfound
+prtrue
+quoted
+atfound
+writeptr
+previousseparator
+group
+prtrue
+quoted
+group
+group
+prfalse
+quoted
+atfound
+prfalse
+writeptr
+addresses
+writeptr
+writeptr
+writeptr
+previousseparator
+writeptr
+writeptr
+writeptr
+achar
+writeptr
+writeptr
+addresses
+writeptr
+writeptr
+writeptr
+nsok
+nsimplthreadsafeisupports
+nsmsgcomposeandsend
+nsimsgsend
+nsmsgcomposeandsend
+nsmsgcomposeandsend
+mmessagekey
+xffffffff
+defined
+debugducarroz
+printf
+create
+nsmsgcomposeandsend
+endif
+mguinotificationenabled
+prtrue
+mabortinprocess
+prfalse
+mlasterrorreported
+nsok
+meditor
+nsnull
+mmultipartrelatedattachmentcount
+mcompfields
+nsnull
+msendmailalso
+prfalse
+moutputfile
+nsnull
+mdontdeliverp
+prfalse
+mdelivermode
+nsmsgdelivernow
+mattachmentsonlyp
+prfalse
+mpresnarfedattachmentsp
+prfalse
+mdigestp
+prfalse
+mbesynchronousp
+prfalse
+mcryptoclosure
+nsnull
+mattachmenttype
+mattachmentencoding
+mattachmentencoderdata
+nsnull
+mattachmentbody
+mattachmentbodylength
+mattachmentcount
+mattachmentpendingcount
+mattachments
+nsnull
+mstatus
+mattachmentsdonecallback
+nsnull
+mplaintext
+nsnull
+mrelatedpart
+nsnull
+mrelatedbodypart
+nsnull
+moriginalhtmlbody
+nsnull
+mreturnfilespec
+nsnull
+mtempfilespec
+nsnull
+mhtmlfilespec
+nsnull
+mcopyfilespec
+nsnull
+mcopyfilespec
+nsnull
+mcopyobj
+nsnull
+mneedtoperformsecondfcc
+prfalse
+mpreloadedattachmentcount
+mremoteattachmentcount
+mcompfieldlocalattachments
+mcompfieldremoteattachments
+mmessagewarningsize
+nsnewxpcom
+msendreport
+nsmsgsendreport
+nsmsgcomposeandsend
+nsmsgcomposeandsend
+defined
+debugducarroz
+printf
+dispose
+nsmsgcomposeandsend
+endif
+msendreport
+nsnull
+clear
+nsimethodimp
+nsmsgcomposeandsend
+getdefaultprompt
+nsiprompt
+aprompt
+nsensurearg
+aprompt
+aprompt
+nsnull
+nsresult
+rv
+nsok
+msendprogress
+rv
+msendprogress
+getprompter
+aprompt
+nssucceeded
+rv
+aprompt
+nsok
+mparentwindow
+rv
+mparentwindow
+getprompter
+aprompt
+nssucceeded
+rv
+aprompt
+nsok
+nscomptr
+nsimsgwindow
+msgwindow
+nscomptr
+nsimsgmailsession
+mailsession
+dogetservice
+nsmsgmailsessioncontractid
+mailsession
+mailsession
+gettopmostmsgwindow
+getteraddrefs
+msgwindow
+msgwindow
+rv
+msgwindow
+getpromptdialog
+aprompt
+rv
+nsresult
+nsmsgcomposeandsend
+getnotificationcallbacks
+nsiinterfacerequestor
+acallbacks
+nscomptr
+nsimsgwindow
+msgwindow
+nscomptr
+nsimsgmailsession
+mailsession
+dogetservice
+nsmsgmailsessioncontractid
+mailsession
+gettopmostmsgwindow
+getteraddrefs
+msgwindow
+msgwindow
+nscomptr
+nsidocshell
+docshell
+msgwindow
+getrootdocshell
+getteraddrefs
+docshell
+nscomptr
+nsiinterfacerequestor
+ir
+doqueryinterface
+docshell
+ir
+acallbacks
+ir
+nsaddref
+acallbacks
+nsok
+nserrorfailure
+nsmsgcomposeandsend
+clear
+ifdef
+nsdebug
+printf
+nthe
+cleanup
+routine
+for
+nsmsgcomposeandsend
+was
+called
+endif
+prfreeif
+mattachmenttype
+prfreeif
+mattachmentencoding
+prfreeif
+mattachmentbody
+prfreeif
+moriginalhtmlbody
+mattachmentencoderdata
+mimeencoderdestroy
+mattachmentencoderdata
+prtrue
+mattachmentencoderdata
+mplaintext
+mplaintext
+moutfile
+mplaintext
+moutfile
+close
+mplaintext
+mfilespec
+mplaintext
+mfilespec
+delete
+prfalse
+mplaintext
+mfilespec
+mplaintext
+mfilespec
+nsnull
+mplaintext
+mplaintext
+nsnull
+mhtmlfilespec
+mhtmlfilespec
+delete
+prfalse
+mhtmlfilespec
+mhtmlfilespec
+nsnull
+moutputfile
+moutputfile
+moutputfile
+mcopyfilespec
+nsfilespec
+afilespec
+mcopyfilespec
+getfilespec
+afilespec
+afilespec
+valid
+afilespec
+delete
+prfalse
+nsifrelease
+mcopyfilespec
+mcopyfilespec
+nsfilespec
+afilespec
+mcopyfilespec
+getfilespec
+afilespec
+afilespec
+valid
+afilespec
+delete
+prfalse
+nsifrelease
+mcopyfilespec
+mtempfilespec
+mreturnfilespec
+nsnull
+mtempfilespec
+delete
+prfalse
+mtempfilespec
+mtempfilespec
+nsnull
+mattachments
+pruint
+mattachmentcount
+mattachments
+mencoderdata
+mimeencoderdestroy
+mattachments
+mencoderdata
+prtrue
+mattachments
+mencoderdata
+mattachments
+murl
+nsnull
+prfreeif
+mattachments
+mtype
+prfreeif
+mattachments
+mcharset
+prfreeif
+mattachments
+moverridetype
+prfreeif
+mattachments
+moverrideencoding
+prfreeif
+mattachments
+mdesiredtype
+prfreeif
+mattachments
+mdescription
+prfreeif
+mattachments
+mxmactype
+prfreeif
+mattachments
+mxmaccreator
+prfreeif
+mattachments
+mrealname
+prfreeif
+mattachments
+mencoding
+prfreeif
+mattachments
+mcontentid
+mattachments
+moutfile
+mattachments
+moutfile
+close
+mattachments
+mfilespec
+mattachments
+mdeletefile
+mattachments
+mfilespec
+delete
+prfalse
+mattachments
+mfilespec
+mattachments
+mfilespec
+nsnull
+defined
+xpmac
+defined
+xpmacosx
+mattachments
+mapplefilespec
+mattachments
+mapplefilespec
+delete
+prfalse
+mattachments
+mapplefilespec
+mattachments
+mapplefilespec
+nsnull
+endif
+mattachments
+mattachmentcount
+mattachmentpendingcount
+mattachments
+mlistener
+nsnull
+mimemailtostreamreadbuffer
+mimemailtostreamwritebuffer
+mimegetstreamwritebuffer
+mimemailtostreamwritebuffer
+mimemailtostreamwritebuffer
+prmalloc
+mimebuffersize
+mimemailtostreamwritebuffer
+prbool
+isempty
+pheaderline
+nsnull
+pheaderline
+pheaderline
+nsmsgcomposeandsend
+generatemessageid
+nsimsgcompdelivermode
+now
+mdelivermode
+nsimsgcompdelivermode
+later
+mdelivermode
+isempty
+mcompfields
+getmessageid
+isempty
+mcompfields
+getto
+isempty
+mcompfields
+getcc
+isempty
+mcompfields
+getbcc
+prbool
+bgeneratemessageid
+prfalse
+museridentity
+getboolattribute
+generatenewsmessageid
+bgeneratemessageid
+bgeneratemessageid
+msgid
+msggeneratemessageid
+museridentity
+mcompfields
+setmessageid
+msgid
+prfreeif
+msgid
+define
+mimemultipartblurb
+this
+is
+multi
+part
+message
+in
+mime
+format
+nsimethodimp
+nsmsgcomposeandsend
+gathermimeattachments
+prbool
+shoulddeletedeliverystate
+prtrue
+print
+status
+pruint
+headers
+prfiledesc
+infile
+prbool
+multipartp
+prfalse
+prbool
+plaintextismainbodyp
+prfalse
+buffer
+buffertail
+nsxpidlstring
+msg
+prbool
+tonews
+prbool
+bodyisusascii
+prtrue
+nsmsgsendpart
+toppart
+nsnull
+nsmsgsendpart
+mainbody
+nsnull
+nsmsgsendpart
+maincontainer
+nsnull
+nsmsgsendpart
+plainpart
+nsnull
+pruint
+multipartrelatedcount
+getmultipartrelatedcount
+nscomptr
+nsiprompt
+promptobject
+getdefaultprompt
+getteraddrefs
+promptobject
+hdrs
+prbool
+maincontainerisrelatedpart
+prfalse
+topparttype
+nsnull
+multipartp
+mattachmentcount
+tonews
+prfalse
+mcompfields
+pstrznewsgroup
+mcompfields
+getnewsgroups
+pstrznewsgroup
+pstrznewsgroup
+tonews
+prtrue
+status
+mstatus
+status
+fail
+mattachmentsonlyp
+mattachmentsdonecallback
+nsmsgattachedfile
+attachments
+nsassertion
+mattachmentcount
+more
+attachment
+mattachmentcount
+mattachmentsdonecallback
+nsnull
+nsnull
+nsnull
+mattachmentsdonecallback
+nsnull
+fail
+attachments
+nsmsgattachedfile
+prmalloc
+mattachmentcount
+attachments
+attachments
+failmem
+memset
+attachments
+mattachmentcount
+attachments
+mattachmentcount
+nsmsgattachmenthandler
+ma
+mattachments
+undef
+snarf
+define
+snarf
+attachments
+origurl
+ma
+murl
+attachments
+filespec
+ma
+mfilespec
+snarf
+attachments
+type
+ma
+mtype
+snarf
+attachments
+encoding
+ma
+mencoding
+snarf
+attachments
+description
+ma
+mdescription
+snarf
+attachments
+xmactype
+ma
+mxmactype
+snarf
+attachments
+xmaccreator
+ma
+mxmaccreator
+undef
+snarf
+attachments
+size
+ma
+msize
+attachments
+unprintablecount
+ma
+munprintablecount
+attachments
+highbitcount
+ma
+mhighbitcount
+attachments
+ctlcount
+ma
+mctlcount
+attachments
+nullcount
+ma
+mnullcount
+attachments
+maxlinelength
+ma
+mmaxcolumn
+attachments
+highbitcount
+attachments
+encoding
+plstrcasecmp
+attachments
+encoding
+encodingbit
+attachments
+encoding
+encodingbit
+mattachmentsdonecallback
+nsnull
+nsnull
+attachments
+prfreeif
+attachments
+mattachmentsdonecallback
+nsnull
+fail
+nsassertion
+mattachmentsdonecallback
+shouldn
+have
+an
+attachement
+callback
+mattachmenttype
+mattachmenttype
+plstrdup
+textplain
+mattachmenttype
+failmem
+mplaintext
+nsnull
+mcompfields
+getforceplaintext
+mcompfields
+getusemultipartalternative
+mattachmentbody
+plstrcmp
+mattachmenttype
+texthtml
+mhtmlfilespec
+nsmsgcreatetempfilespec
+nsmail
+html
+mhtmlfilespec
+failmem
+nsoutputfilestream
+tempfile
+mhtmlfilespec
+kdefaultmode
+tempfile
+isopen
+msendreport
+nsautostring
+errormsg
+nsautostring
+path
+nsmsggetnativepathstring
+mhtmlfilespec
+getnativepathcstring
+path
+nsmsgbuilderrormessagebyid
+nsmsgunabletoopentmpfile
+errormsg
+path
+nsnull
+msendreport
+setmessage
+nsimsgsendreport
+processcurrent
+errormsg
+get
+prfalse
+status
+nsmsgunabletoopentmpfile
+fail
+moriginalhtmlbody
+pruint
+origlen
+strlen
+moriginalhtmlbody
+status
+tempfile
+write
+moriginalhtmlbody
+origlen
+status
+origlen
+status
+status
+nsmsgerrorwritingfile
+fail
+nsfailed
+tempfile
+flush
+tempfile
+failed
+status
+nsmsgerrorwritingfile
+fail
+tempfile
+close
+mplaintext
+nsmsgattachmenthandler
+mplaintext
+failmem
+mplaintext
+setmimedeliverystate
+mplaintext
+mbogusattachment
+prtrue
+tempurl
+nsmsgplatformfiletourl
+mhtmlfilespec
+tempurl
+nsfailed
+nsmsgnewurl
+getteraddrefs
+mplaintext
+murl
+tempurl
+mplaintext
+mplaintext
+nsnull
+failmem
+prfreeif
+tempurl
+prfreeif
+mplaintext
+mtype
+mplaintext
+mtype
+plstrdup
+texthtml
+prfreeif
+mplaintext
+mcharset
+mplaintext
+mcharset
+plstrdup
+mcompfields
+getcharacterset
+prfreeif
+mplaintext
+mdesiredtype
+mplaintext
+mdesiredtype
+plstrdup
+textplain
+mattachmentpendingcount
+status
+mplaintext
+snarfattachment
+mcompfields
+status
+fail
+mattachmentpendingcount
+nsok
+buffer
+mimegetstreamwritebuffer
+buffer
+failmem
+buffertail
+buffer
+nsassertion
+mattachmentpendingcount
+mattachmentpendingcount
+mcomposebundle
+getstringbyid
+nsmsgassemblingmsg
+gettercopies
+msg
+setstatusmessage
+msg
+mtempfilespec
+nsmsgcreatetempfilespec
+nsmail
+eml
+mtempfilespec
+failmem
+moutputfile
+nsoutputfilestream
+mtempfilespec
+kdefaultmode
+moutputfile
+isopen
+checksimulatederror
+simulatedsenderror
+status
+nsmsgunabletoopentmpfile
+msendreport
+nsautostring
+errormsg
+nsautostring
+path
+nsmsggetnativepathstring
+mtempfilespec
+getnativepathcstring
+path
+nsmsgbuilderrormessagebyid
+nsmsgunabletoopentmpfile
+errormsg
+path
+nsnull
+msendreport
+setmessage
+nsimsgsendreport
+processcurrent
+errormsg
+get
+prfalse
+fail
+generatemessageid
+mainbody
+nsmsgsendpart
+mcompfields
+getcharacterset
+mainbody
+failmem
+mainbody
+setmainpart
+prtrue
+mainbody
+settype
+mattachmenttype
+mattachmenttype
+textplain
+nsassertion
+mainbody
+getbuffer
+nsnull
+buffer
+status
+mainbody
+setbuffer
+mattachmentbody
+mattachmentbody
+status
+fail
+prfreeif
+mattachmentencoding
+mattachmentbody
+mcompfields
+getbodyisasciionly
+bodyisusascii
+nsmsginstatefulcharset
+mcompfields
+getcharacterset
+bodyisusascii
+mattachmentencoding
+plstrdup
+encodingbit
+mimeusequotedprintablep
+mattachmentencoding
+plstrdup
+encodingquotedprintable
+mattachmentencoding
+plstrdup
+encodingbit
+prfreeif
+mattachmentbody
+maincontainer
+mainbody
+mrelatedpart
+mainbody
+maincontainer
+mrelatedpart
+maincontainerisrelatedpart
+prtrue
+mainbody
+mrelatedpart
+getchild
+mainbody
+setmainpart
+prtrue
+mplaintext
+plainpart
+nsmsgsendpart
+mcompfields
+getcharacterset
+plainpart
+failmem
+status
+plainpart
+settype
+textplain
+status
+fail
+status
+plainpart
+setfile
+mplaintext
+mfilespec
+status
+fail
+mplaintext
+mmainbody
+prtrue
+mplaintext
+analyzesnarfedfile
+mplaintext
+pickencoding
+mcompfields
+getcharacterset
+charset
+mcompfields
+getcharacterset
+hdrs
+mimegenerateattachmentheaders
+mplaintext
+mtype
+nsnull
+mplaintext
+mencoding
+mplaintext
+mdescription
+mplaintext
+mxmactype
+mplaintext
+mxmaccreator
+nsnull
+mdigestp
+mplaintext
+charset
+charset
+mcompfields
+getbodyisasciionly
+nsnull
+prtrue
+hdrs
+failmem
+status
+plainpart
+setotherheaders
+hdrs
+prfree
+hdrs
+hdrs
+nsnull
+status
+fail
+mcompfields
+getusemultipartalternative
+nsmsgsendpart
+htmlpart
+maincontainer
+maincontainer
+nsmsgsendpart
+maincontainer
+failmem
+status
+maincontainer
+settype
+multipartalternative
+status
+fail
+status
+maincontainer
+addchild
+plainpart
+status
+fail
+status
+maincontainer
+addchild
+htmlpart
+status
+fail
+plstrcasecmp
+mplaintext
+mencoding
+encodingquotedprintable
+mimeencoderdata
+plaintextenc
+mimeqpencoderinit
+mimeencoderoutputfn
+plaintextenc
+status
+nserroroutofmemory
+fail
+plainpart
+setencoderdata
+plaintextenc
+maincontainer
+maincontainerisrelatedpart
+mrelatedpart
+nsnull
+maincontainer
+plainpart
+mainbody
+maincontainer
+prfreeif
+mattachmenttype
+mattachmenttype
+plstrdup
+textplain
+mattachmenttype
+failmem
+prfreeif
+mattachmentencoding
+mattachmentencoding
+plstrdup
+mplaintext
+mencoding
+plaintextismainbodyp
+prtrue
+mattachmentcount
+multipartrelatedcount
+toppart
+nsmsgsendpart
+toppart
+failmem
+status
+toppart
+settype
+mdigestp
+multipartdigest
+multipartmixed
+status
+fail
+status
+toppart
+addchild
+maincontainer
+status
+fail
+toppart
+maincontainer
+topparttype
+toppart
+gettype
+mcryptoclosure
+topparttype
+plstrncasecmp
+topparttype
+multipart
+status
+toppart
+setbuffer
+mimemultipartblurb
+status
+fail
+headers
+mimegenerateheaders
+mcompfields
+mcompfields
+getcharacterset
+mdelivermode
+promptobject
+status
+status
+fail
+headers
+failmem
+plainpart
+plainpart
+toppart
+status
+toppart
+appendotherheaders
+headers
+status
+toppart
+setotherheaders
+headers
+prfree
+headers
+headers
+nsnull
+status
+fail
+nsassertion
+mattachmentencoderdata
+mattachmentencoderdata
+plstrcasecmp
+mattachmentencoding
+encodingbase
+mattachmentencoderdata
+mimebencoderinit
+mimeencoderoutputfn
+mattachmentencoderdata
+failmem
+plstrcasecmp
+mattachmentencoding
+encodingquotedprintable
+mattachmentencoderdata
+mimeqpencoderinit
+mimeencoderoutputfn
+plainpart
+plainpart
+mainbody
+charset
+mcompfields
+getcharacterset
+hdrs
+mimegenerateattachmentheaders
+mattachmenttype
+nsnull
+mattachmentencoding
+mdigestp
+nsnull
+charset
+charset
+mcompfields
+getbodyisasciionly
+nsnull
+prtrue
+hdrs
+failmem
+status
+mainbody
+appendotherheaders
+hdrs
+status
+fail
+prfreeif
+hdrs
+status
+mainbody
+setencoderdata
+mattachmentencoderdata
+mattachmentencoderdata
+nsnull
+status
+fail
+mattachmentcount
+mimemailtostreamreadbuffer
+mimemailtostreamreadbuffer
+prmalloc
+mimebuffersize
+buffer
+mimemailtostreamreadbuffer
+buffer
+failmem
+buffertail
+buffer
+mattachmentcount
+nsmsgattachmenthandler
+ma
+mattachments
+ma
+mmhtmlpart
+preprocesspart
+ma
+toppart
+mrelatedpart
+mattachmentcount
+mattachments
+mpartuseromissionoverride
+mattachments
+mmhtmlpart
+preprocesspart
+mattachments
+mrelatedpart
+mcomposebundle
+getstringbyid
+nsmsgcreatingmessage
+gettercopies
+msg
+setstatusmessage
+msg
+status
+toppart
+write
+status
+fail
+mcryptoclosure
+status
+mcryptoclosure
+finishcryptoencapsulation
+prfalse
+msendreport
+mcryptoclosure
+nsfailed
+status
+fail
+moutputfile
+nsfailed
+moutputfile
+flush
+moutputfile
+failed
+status
+nsmsgerrorwritingfile
+fail
+moutputfile
+close
+moutputfile
+moutputfile
+nsnull
+mtempfilespec
+getfilesize
+status
+nsmsgerrorwritingfile
+fail
+mcomposebundle
+getstringbyid
+nsmsgassembdonemsg
+gettercopies
+msg
+setstatusmessage
+msg
+mdontdeliverp
+mlistener
+nsnewfilespecwithspec
+mtempfilespec
+mreturnfilespec
+mtempfilespec
+mtempfilespec
+nsnull
+mreturnfilespec
+notifylisteneronstopsending
+nsnull
+nserroroutofmemory
+nsnull
+nsnull
+notifylisteneronstopsending
+nsnull
+nsok
+nsnull
+mreturnfilespec
+status
+delivermessage
+nssucceeded
+status
+shoulddeletedeliverystate
+prfalse
+fail
+failmem
+status
+nserroroutofmemory
+fail
+toppart
+toppart
+toppart
+nsnull
+mainbody
+nsnull
+maincontainer
+nsnull
+prfreeif
+headers
+infile
+prclose
+infile
+infile
+nsnull
+shoulddeletedeliverystate
+status
+mstatus
+status
+nsresult
+ignoreme
+fail
+status
+nsnull
+ignoreme
+status
+print
+nsmsgcomposeandsend
+preprocesspart
+nsmsgattachmenthandler
+ma
+nsmsgsendpart
+toppart
+nsresult
+status
+hdrs
+nsmsgsendpart
+part
+nsnull
+ma
+mbogusattachment
+ma
+mtype
+nsnull
+ma
+mtype
+plstrdup
+unknowncontenttype
+ma
+mtype
+nsnull
+ma
+pickencoding
+mcompfields
+getcharacterset
+part
+nsmsgsendpart
+part
+status
+toppart
+addchild
+part
+nsfailed
+status
+status
+part
+settype
+ma
+mtype
+nsfailed
+status
+nsxpidlcstring
+turl
+ma
+murl
+ma
+muri
+turl
+adopt
+nscrt
+strdup
+ma
+muri
+ma
+murl
+getspec
+turl
+hdrs
+mimegenerateattachmentheaders
+ma
+mtype
+ma
+mtypeparam
+ma
+mencoding
+ma
+mdescription
+ma
+mxmactype
+ma
+mxmaccreator
+ma
+mrealname
+turl
+mdigestp
+ma
+ma
+mcharset
+mcompfields
+getcharacterset
+prfalse
+ma
+mcontentid
+prfalse
+hdrs
+status
+part
+setotherheaders
+hdrs
+prfreeif
+hdrs
+nsfailed
+status
+status
+part
+setfile
+ma
+mfilespec
+nsfailed
+status
+ma
+mencoderdata
+status
+part
+setencoderdata
+ma
+mencoderdata
+nsfailed
+status
+ma
+mencoderdata
+nsnull
+ma
+mcurrentcolumn
+ma
+mtype
+plstrcasecmp
+ma
+mtype
+messagerfc
+plstrcasecmp
+ma
+mtype
+messagenews
+status
+part
+setstripsensitiveheaders
+prtrue
+nsfailed
+status
+defined
+xpmac
+defined
+debug
+pragma
+globaloptimizer
+on
+pragma
+optimizationlevel
+endif
+define
+frob
+recipients
+plstrcat
+recipients
+plstrcat
+recipients
+nsresult
+nsmsgcomposeandsend
+begincryptoencapsulation
+nsresult
+rv
+nsok
+nscomptr
+nsimsgcomposesecure
+securecompose
+securecompose
+docreateinstance
+nsmsgcomposesecurecontractid
+rv
+nsfailed
+rv
+nsok
+securecompose
+prbool
+requiresencryptionwork
+prfalse
+securecompose
+requirescryptoencapsulation
+museridentity
+mcompfields
+requiresencryptionwork
+requiresencryptionwork
+mcryptoclosure
+securecompose
+recipients
+prmalloc
+mcompfields
+getto
+strlen
+mcompfields
+getto
+mcompfields
+getcc
+strlen
+mcompfields
+getcc
+mcompfields
+getbcc
+strlen
+mcompfields
+getbcc
+mcompfields
+getnewsgroups
+strlen
+mcompfields
+getnewsgroups
+recipients
+nserroroutofmemory
+recipients
+frob
+mcompfields
+getto
+frob
+mcompfields
+getcc
+frob
+mcompfields
+getbcc
+frob
+mcompfields
+getnewsgroups
+rv
+mcryptoclosure
+begincryptoencapsulation
+moutputfile
+recipients
+mcompfields
+museridentity
+msendreport
+mdelivermode
+nsmsgsaveasdraft
+prfreeif
+recipients
+rv
+defined
+xpmac
+defined
+debug
+pragma
+globaloptimizer
+reset
+endif
+nsresult
+mimewritemessagebody
+nsimsgsend
+state
+buf
+print
+size
+nsensureargpointer
+state
+nsoutputfilestream
+output
+nscomptr
+nsimsgcomposesecure
+cryptoclosure
+state
+getoutputstream
+output
+output
+checksimulatederror
+simulatedsenderror
+nsmsgerrorwritingfile
+state
+getcryptoclosure
+getteraddrefs
+cryptoclosure
+cryptoclosure
+cryptoclosure
+mimecryptowriteblock
+buf
+size
+print
+output
+write
+buf
+size
+size
+nsmsgerrorwritingfile
+nsok
+nsresult
+mimeencoderoutputfn
+buf
+print
+size
+closure
+nsmsgcomposeandsend
+state
+nsmsgcomposeandsend
+closure
+mimewritemessagebody
+state
+buf
+size
+nsresult
+nsmsgcomposeandsend
+getembeddedobjectinfo
+nsidomnode
+node
+nsmsgattachmentdata
+attachment
+prbool
+acceptobject
+nsensureargpointer
+node
+nsensureargpointer
+attachment
+nsensureargpointer
+acceptobject
+nsresult
+rv
+memset
+attachment
+nsmsgattachmentdata
+acceptobject
+prfalse
+nscomptr
+nsidomelement
+domelement
+doqueryinterface
+node
+domelement
+nsautostring
+attributevalue
+nssucceeded
+domelement
+getattribute
+nsliteralstring
+moz
+send
+attributevalue
+attributevalue
+equals
+nsliteralstring
+nscaseinsensitivestringcomparator
+nsok
+nscomptr
+nsidomhtmlbodyelement
+body
+doqueryinterface
+node
+nscomptr
+nsidomhtmlimageelement
+image
+doqueryinterface
+node
+nscomptr
+nsidomhtmllinkelement
+link
+doqueryinterface
+node
+nscomptr
+nsidomhtmlanchorelement
+anchor
+doqueryinterface
+node
+body
+nsautostring
+turl
+nssucceeded
+body
+getbackground
+turl
+nscautostring
+turlc
+turlc
+assignwithconversion
+turl
+nssucceeded
+nsmsgnewurl
+attachment
+url
+turlc
+get
+nsifaddref
+attachment
+url
+nsok
+image
+nsstring
+turl
+nsstring
+tname
+nsstring
+tdesc
+nsfailed
+image
+getsrc
+turl
+nserrorfailure
+nscautostring
+turlc
+turlc
+assignwithconversion
+turl
+nsfailed
+nsmsgnewurl
+attachment
+url
+turlc
+get
+nsidomdocument
+ownerdocument
+nsnull
+node
+getownerdocument
+ownerdocument
+ownerdocument
+nsidocument
+doc
+nsnull
+nsfailed
+ownerdocument
+queryinterface
+nsgetiid
+nsidocument
+doc
+doc
+nserroroutofmemory
+nscautostring
+spec
+nscomptr
+nsiuri
+uri
+doc
+getdocumenturl
+getteraddrefs
+uri
+uri
+nserroroutofmemory
+uri
+getspec
+spec
+nsconvertutftoucs
+workurl
+spec
+print
+loc
+workurl
+rfind
+loc
+workurl
+setlength
+loc
+workurl
+append
+turl
+nsconvertucstoutf
+workurlc
+workurl
+nsfailed
+nsmsgnewurl
+attachment
+url
+workurlc
+get
+nsok
+nsifaddref
+attachment
+url
+rv
+image
+getname
+tname
+nsensuresuccess
+rv
+rv
+attachment
+realname
+tonewcstring
+tname
+image
+getlongdesc
+tdesc
+nsensuresuccess
+rv
+rv
+attachment
+description
+tonewcstring
+tdesc
+link
+nsstring
+turl
+rv
+link
+gethref
+turl
+nsensuresuccess
+rv
+rv
+nscautostring
+turlc
+turlc
+assignwithconversion
+turl
+rv
+nsmsgnewurl
+attachment
+url
+turlc
+get
+nsensuresuccess
+rv
+rv
+nsifaddref
+attachment
+url
+anchor
+nsstring
+turl
+nsstring
+tname
+rv
+anchor
+gethref
+turl
+nsensuresuccess
+rv
+rv
+nscautostring
+turlc
+turlc
+assignwithconversion
+turl
+rv
+nsmsgnewurl
+attachment
+url
+turlc
+get
+nsensuresuccess
+rv
+rv
+nsifaddref
+attachment
+url
+rv
+anchor
+getname
+tname
+nsensuresuccess
+rv
+rv
+attachment
+realname
+tonewcstring
+tname
+nsok
+prbool
+schemeisfile
+prfalse
+rv
+attachment
+url
+schemeis
+file
+schemeisfile
+nssucceeded
+rv
+schemeisfile
+nscomptr
+nsifileurl
+fileurl
+doqueryinterface
+attachment
+url
+fileurl
+prbool
+isavalidfile
+prfalse
+nscomptr
+nsifile
+afile
+rv
+fileurl
+getfile
+getteraddrefs
+afile
+nssucceeded
+rv
+afile
+nscomptr
+nsilocalfile
+alocalfile
+doqueryinterface
+afile
+alocalfile
+rv
+alocalfile
+isfile
+isavalidfile
+nsfailed
+rv
+isavalidfile
+prfalse
+isavalidfile
+nsok
+acceptobject
+prtrue
+nsok
+pruint
+nsmsgcomposeandsend
+getmultipartrelatedcount
+prbool
+forcetobecalculated
+nsresult
+rv
+nsok
+pruint
+count
+mmultipartrelatedattachmentcount
+forcetobecalculated
+pruint
+mmultipartrelatedattachmentcount
+mmultipartrelatedattachmentcount
+nscomptr
+nsieditormailsupport
+maileditor
+doqueryinterface
+meditor
+maileditor
+rv
+maileditor
+getembeddedobjects
+getteraddrefs
+membeddedobjectlist
+nsfailed
+rv
+membeddedobjectlist
+nssucceeded
+membeddedobjectlist
+count
+count
+count
+nsmsgattachmentdata
+attachment
+print
+nscomptr
+nsidomnode
+node
+nscomptr
+nsisupports
+isupp
+count
+count
+memset
+attachment
+nsmsgattachmentdata
+membeddedobjectlist
+queryelementat
+nsgetiid
+nsidomnode
+getteraddrefs
+node
+node
+prbool
+acceptobject
+prfalse
+rv
+getembeddedobjectinfo
+node
+attachment
+acceptobject
+nssucceeded
+rv
+acceptobject
+count
+membeddedobjectlist
+deleteelementat
+mmultipartrelatedattachmentcount
+print
+count
+count
+nsresult
+nsmsgcomposeandsend
+getbodyfromeditor
+attachmentbody
+nsnull
+attachmenttype
+texthtml
+pruint
+attachmentbodylength
+nsstring
+format
+format
+assignwithconversion
+texthtml
+pruint
+flags
+nsidocumentencoder
+outputformatted
+nsidocumentencoder
+outputnoformattinginpre
+nsautostring
+bodystr
+prunichar
+bodytext
+nsnull
+nsresult
+rv
+prunichar
+orightmlbody
+nsnull
+meditor
+outputtostring
+format
+flags
+bodystr
+bodystr
+isempty
+nsok
+bodytext
+tonewunicode
+bodystr
+bodytext
+nserroroutofmemory
+prbool
+doconversion
+prtrue
+mcompfields
+mcompfields
+getforceplaintext
+doconversion
+prfalse
+doconversion
+nscomptr
+mozitxttohtmlconv
+conv
+docreateinstance
+moztxttohtmlconvcontractid
+rv
+nssucceeded
+rv
+pruint
+whattodo
+mozitxttohtmlconv
+kurls
+prbool
+enablestructs
+prfalse
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefcid
+rv
+nssucceeded
+rv
+prefs
+rv
+prefs
+getboolpref
+prefmailsendstruct
+enablestructs
+enablestructs
+whattodo
+whattodo
+mozitxttohtmlconv
+kstructphrase
+prunichar
+wresult
+rv
+conv
+scanhtml
+bodytext
+whattodo
+wresult
+nssucceeded
+rv
+orightmlbody
+bodytext
+bodytext
+wresult
+outcstring
+nsnull
+acharset
+mcompfields
+getcharacterset
+acharset
+acharset
+prbool
+isasciionly
+rv
+nsmsginsaveascharset
+mcompfields
+getforceplaintext
+textplain
+attachmenttype
+acharset
+bodytext
+outcstring
+nsnull
+isasciionly
+mcompfields
+setbodyisasciionly
+isasciionly
+nserroruencnomapping
+rv
+mcompfields
+getforceplaintext
+prunichar
+bodytextptr
+bodytext
+bodytextptr
+xa
+bodytextptr
+bodytextptr
+bodytextptr
+prfreeif
+outcstring
+nsxpidlcstring
+fallbackcharset
+rv
+nsmsginsaveascharset
+textplain
+acharset
+bodytext
+outcstring
+gettercopies
+fallbackcharset
+nserroruencnomapping
+rv
+prbool
+proceedthesend
+nscomptr
+nsiprompt
+prompt
+getdefaultprompt
+getteraddrefs
+prompt
+rv
+nsmsgaskbooleanquestionbyid
+prompt
+nserrormsgmultilingualsend
+proceedthesend
+proceedthesend
+prfreeif
+attachmentbody
+prfreeif
+outcstring
+recycle
+bodytext
+nserrormsgmultilingualsend
+fallbackcharset
+mcompfields
+setcharacterset
+fallbackcharset
+get
+nssucceeded
+rv
+prfreeif
+attachmentbody
+attachmentbody
+outcstring
+prfreeif
+outcstring
+orightmlbody
+newbody
+nsnull
+rv
+nsmsginsaveascharset
+mcompfields
+getusemultipartalternative
+textplain
+attachmenttype
+acharset
+orightmlbody
+newbody
+nssucceeded
+rv
+prfreeif
+orightmlbody
+orightmlbody
+prunichar
+newbody
+recycle
+bodytext
+nserrorfailure
+orightmlbody
+moriginalhtmlbody
+nscrt
+strdup
+attachmentbody
+moriginalhtmlbody
+orightmlbody
+attachmentbodylength
+plstrlen
+attachmentbody
+rv
+snarfandcopybody
+attachmentbody
+attachmentbodylength
+attachmenttype
+prfreeif
+attachmentbody
+rv
+define
+linebreakmax
+nsresult
+nsmsgcomposeandsend
+ensurelinebreaks
+body
+pruint
+bodylen
+nsensureargpointer
+body
+pruint
+pruint
+charssincelinebreak
+pruint
+lastpos
+newbody
+nsnull
+newbodypos
+nsnull
+bodylen
+nscrt
+strncmp
+body
+nslinebreak
+nslinebreaklen
+charssincelinebreak
+charssincelinebreak
+linebreakmax
+newbody
+pruint
+worstcaselen
+bodylen
+bodylen
+linebreakmax
+nslinebreaklen
+newbody
+prmalloc
+worstcaselen
+newbody
+nserroroutofmemory
+newbodypos
+newbody
+plstrncpy
+newbodypos
+body
+lastpos
+lastpos
+newbodypos
+lastpos
+plstrncpy
+newbodypos
+nslinebreak
+nslinebreaklen
+newbodypos
+nslinebreaklen
+lastpos
+charssincelinebreak
+charssincelinebreak
+newbody
+plstrcpy
+newbodypos
+body
+lastpos
+mattachmentbody
+newbody
+mattachmentbodylength
+plstrlen
+newbody
+mattachmentbody
+plstrdup
+body
+mattachmentbody
+nserroroutofmemory
+mattachmentbodylength
+bodylen
+nsok
+nsidomnode
+node
+url
+domsavestruct
+nsresult
+nsmsgcomposeandsend
+processmultipartrelated
+print
+amailboxcount
+print
+anewscount
+pruint
+multipartcount
+getmultipartrelatedcount
+nsresult
+rv
+nsok
+pruint
+print
+pruint
+print
+duplicateof
+domsavestruct
+domsavearray
+nsnull
+meditor
+nsok
+membeddedobjectlist
+nserrormimempartattachmenterror
+nsmsgattachmentdata
+attachment
+print
+loccount
+multipartcount
+domsavearray
+domsavestruct
+prmalloc
+domsavestruct
+multipartcount
+domsavearray
+nserrormimempartattachmenterror
+memset
+domsavearray
+domsavestruct
+multipartcount
+nscomptr
+nsidomnode
+node
+mpreloadedattachmentcount
+mpreloadedattachmentcount
+multipartcount
+memset
+attachment
+nsmsgattachmentdata
+mattachments
+mmhtmlpart
+prtrue
+loccount
+mattachments
+mdeletefile
+prtrue
+mattachments
+mdone
+prfalse
+mattachments
+setmimedeliverystate
+membeddedobjectlist
+queryelementat
+loccount
+nsgetiid
+nsidomnode
+getteraddrefs
+node
+node
+nserrormimempartattachmenterror
+prbool
+acceptobject
+prfalse
+rv
+getembeddedobjectinfo
+node
+attachment
+acceptobject
+nsensuresuccess
+rv
+nserrormimempartattachmenterror
+acceptobject
+domsavearray
+node
+node
+duplicateof
+mpreloadedattachmentcount
+prbool
+isequal
+prfalse
+attachment
+url
+equals
+mattachments
+murl
+isequal
+isequal
+duplicateof
+duplicateof
+mattachments
+murl
+attachment
+url
+prfreeif
+mattachments
+moverridetype
+mattachments
+moverridetype
+plstrdup
+attachment
+realtype
+prfreeif
+mattachments
+moverrideencoding
+mattachments
+moverrideencoding
+plstrdup
+attachment
+realencoding
+prfreeif
+mattachments
+mdesiredtype
+mattachments
+mdesiredtype
+plstrdup
+attachment
+desiredtype
+prfreeif
+mattachments
+mdescription
+mattachments
+mdescription
+plstrdup
+attachment
+description
+prfreeif
+mattachments
+mrealname
+mattachments
+mrealname
+plstrdup
+attachment
+realname
+prfreeif
+mattachments
+mxmactype
+mattachments
+mxmactype
+plstrdup
+attachment
+xmactype
+prfreeif
+mattachments
+mxmaccreator
+mattachments
+mxmaccreator
+plstrdup
+attachment
+xmaccreator
+prfreeif
+mattachments
+mcharset
+mattachments
+mcharset
+plstrdup
+mcompfields
+getcharacterset
+prfreeif
+mattachments
+mencoding
+mattachments
+mencoding
+plstrdup
+bit
+mattachments
+murl
+msgpickrealname
+mattachments
+nsnull
+mcompfields
+getcharacterset
+nsxpidlcstring
+email
+museridentity
+getemail
+gettercopies
+email
+mattachments
+mcontentid
+mimegencontentid
+loccount
+email
+get
+mattachments
+mcontentid
+nserroroutofmemory
+mattachments
+murl
+nsiuri
+uri
+mattachments
+murl
+prbool
+match
+prfalse
+nssucceeded
+uri
+schemeis
+mailbox
+match
+match
+nssucceeded
+uri
+schemeis
+imap
+match
+match
+amailboxcount
+nssucceeded
+uri
+schemeis
+news
+match
+match
+nssucceeded
+uri
+schemeis
+snews
+match
+match
+anewscount
+prfree
+attachment
+realname
+prfree
+attachment
+description
+prfree
+attachment
+realtype
+prfree
+attachment
+realencoding
+prfree
+attachment
+desiredtype
+prfree
+attachment
+xmactype
+prfree
+attachment
+xmaccreator
+nsstring
+domurl
+mattachments
+duplicateof
+duplicateof
+mcontentid
+nsstring
+newspec
+nsliteralstring
+cid
+newspec
+appendwithconversion
+mattachments
+duplicateof
+duplicateof
+mcontentid
+nscomptr
+nsidomhtmlbodyelement
+body
+doqueryinterface
+domsavearray
+node
+nscomptr
+nsidomhtmlimageelement
+image
+doqueryinterface
+domsavearray
+node
+nscomptr
+nsidomhtmllinkelement
+link
+doqueryinterface
+domsavearray
+node
+nscomptr
+nsidomhtmlanchorelement
+anchor
+doqueryinterface
+domsavearray
+node
+anchor
+anchor
+gethref
+domurl
+anchor
+sethref
+newspec
+link
+link
+gethref
+domurl
+link
+sethref
+newspec
+image
+image
+getsrc
+domurl
+image
+setsrc
+newspec
+body
+body
+getbackground
+domurl
+body
+setbackground
+newspec
+domurl
+isempty
+domsavearray
+url
+tonewcstring
+domurl
+rv
+getbodyfromeditor
+multipartcount
+domsavearray
+node
+domsavearray
+url
+nscomptr
+nsidomhtmlbodyelement
+body
+doqueryinterface
+domsavearray
+node
+nscomptr
+nsidomhtmlimageelement
+image
+doqueryinterface
+domsavearray
+node
+nscomptr
+nsidomhtmllinkelement
+link
+doqueryinterface
+domsavearray
+node
+nscomptr
+nsidomhtmlanchorelement
+anchor
+doqueryinterface
+domsavearray
+node
+anchor
+anchor
+sethref
+nsconvertasciitoucs
+domsavearray
+url
+link
+link
+sethref
+nsconvertasciitoucs
+domsavearray
+url
+image
+image
+setsrc
+nsconvertasciitoucs
+domsavearray
+url
+body
+body
+setbackground
+nsconvertasciitoucs
+domsavearray
+url
+nsmemory
+free
+domsavearray
+url
+prfreeif
+domsavearray
+mrelatedpart
+nsmsgsendpart
+mrelatedpart
+nserroroutofmemory
+mrelatedpart
+setmimedeliverystate
+mrelatedpart
+settype
+multipartrelated
+mrelatedbodypart
+nsmsgsendpart
+mrelatedbodypart
+nserroroutofmemory
+mrelatedbodypart
+setbuffer
+mattachmentbody
+mrelatedbodypart
+settype
+mattachmenttype
+mrelatedpart
+addchild
+mrelatedbodypart
+rv
+nsresult
+nsmsgcomposeandsend
+countcompfieldattachments
+mcompfieldlocalattachments
+mcompfieldremoteattachments
+nscomptr
+nsisupportsarray
+attachmentsarray
+mcompfields
+getattachmentsarray
+getteraddrefs
+attachmentsarray
+attachmentsarray
+nsok
+pruint
+pruint
+attachmentcount
+attachmentsarray
+count
+attachmentcount
+nscomptr
+nsimsgattachment
+element
+nsxpidlcstring
+url
+attachmentcount
+attachmentsarray
+queryelementat
+nsgetiid
+nsimsgattachment
+getteraddrefs
+element
+element
+element
+geturl
+gettercopies
+url
+url
+isempty
+nsmsgislocalfile
+url
+get
+mcompfieldlocalattachments
+defined
+debugducarroz
+printf
+counting
+local
+attachment
+mcompfieldlocalattachments
+url
+get
+endif
+mcompfieldremoteattachments
+defined
+debugducarroz
+printf
+counting
+remote
+attachment
+mcompfieldremoteattachments
+url
+get
+endif
+nsok
+nsresult
+nsmsgcomposeandsend
+addcompfieldlocalattachments
+mcompfieldlocalattachments
+nsok
+nscomptr
+nsisupportsarray
+attachmentsarray
+mcompfields
+getattachmentsarray
+getteraddrefs
+attachmentsarray
+attachmentsarray
+nsok
+pruint
+pruint
+newloc
+pruint
+attachmentcount
+attachmentsarray
+count
+attachmentcount
+nscomptr
+nsimsgattachment
+element
+nsxpidlcstring
+url
+attachmentcount
+attachmentsarray
+queryelementat
+nsgetiid
+nsimsgattachment
+getteraddrefs
+element
+element
+element
+geturl
+gettercopies
+url
+url
+isempty
+nsmsgislocalfile
+url
+get
+defined
+debugducarroz
+printf
+adding
+local
+attachment
+newloc
+url
+get
+endif
+mattachments
+newloc
+mdeletefile
+prfalse
+nsmsgnewurl
+getteraddrefs
+mattachments
+newloc
+murl
+url
+get
+mattachments
+newloc
+mfilespec
+mattachments
+newloc
+mdeletefile
+mattachments
+newloc
+mfilespec
+delete
+prfalse
+mattachments
+newloc
+mfilespec
+mattachments
+newloc
+mfilespec
+nsnull
+mattachments
+newloc
+mfilespec
+nsfilespec
+nsfileurl
+url
+get
+mattachments
+newloc
+mdeletefile
+prfalse
+mattachments
+newloc
+murl
+nsxpidlstring
+proposedname
+element
+getname
+gettercopies
+proposedname
+msgpickrealname
+mattachments
+newloc
+proposedname
+get
+mcompfields
+getcharacterset
+prfreeif
+mattachments
+newloc
+mtype
+element
+getcontenttype
+mattachments
+newloc
+mtype
+mattachments
+newloc
+mtype
+mattachments
+newloc
+mtype
+nsresult
+rv
+nsok
+nscomptr
+nsimimeservice
+mimefinder
+dogetservice
+nsmimeservicecontractid
+rv
+nssucceeded
+rv
+mimefinder
+nscomptr
+nsiurl
+fileurl
+docreateinstance
+nsstandardurlcontractid
+fileurl
+nscautostring
+fileext
+rv
+fileurl
+setfilename
+nsdependentcstring
+mattachments
+newloc
+mrealname
+nssucceeded
+rv
+rv
+fileurl
+getfileextension
+fileext
+nssucceeded
+rv
+fileext
+isempty
+mimefinder
+gettypefromextension
+fileext
+get
+mattachments
+newloc
+mtype
+mattachments
+newloc
+mtype
+mattachments
+newloc
+mtype
+rv
+fileurl
+setspec
+url
+nssucceeded
+rv
+rv
+fileurl
+getfileextension
+fileext
+nssucceeded
+rv
+fileext
+isempty
+mimefinder
+gettypefromextension
+fileext
+get
+mattachments
+newloc
+mtype
+element
+getcontenttypeparam
+mattachments
+newloc
+mtypeparam
+defined
+xpmac
+defined
+xpmacosx
+mattachments
+newloc
+mdone
+prfalse
+mattachments
+newloc
+setmimedeliverystate
+mattachments
+newloc
+mtype
+mattachments
+newloc
+mtype
+mattachments
+newloc
+mdone
+prfalse
+mattachments
+newloc
+setmimedeliverystate
+mattachments
+newloc
+mdone
+prtrue
+mattachments
+newloc
+setmimedeliverystate
+nsnull
+endif
+mattachments
+newloc
+mtype
+mattachments
+newloc
+mtype
+plstrcasecmp
+mattachments
+newloc
+mtype
+texthtml
+tmpcharset
+nsmsginparsemetacharset
+mattachments
+newloc
+mfilespec
+tmpcharset
+prfreeif
+mattachments
+newloc
+mcharset
+mattachments
+newloc
+mcharset
+plstrdup
+tmpcharset
+prfreeif
+mattachments
+newloc
+mxmactype
+element
+getmactype
+mattachments
+newloc
+mxmactype
+prfreeif
+mattachments
+newloc
+mxmaccreator
+element
+getmaccreator
+mattachments
+newloc
+mxmaccreator
+newloc
+nsok
+nsresult
+nsmsgcomposeandsend
+addcompfieldremoteattachments
+pruint
+astartlocation
+print
+amailboxcount
+print
+anewscount
+mcompfieldremoteattachments
+nsok
+nscomptr
+nsisupportsarray
+attachmentsarray
+mcompfields
+getattachmentsarray
+getteraddrefs
+attachmentsarray
+attachmentsarray
+nsok
+pruint
+pruint
+newloc
+astartlocation
+pruint
+attachmentcount
+attachmentsarray
+count
+attachmentcount
+nscomptr
+nsimsgattachment
+element
+nsxpidlcstring
+url
+attachmentcount
+attachmentsarray
+queryelementat
+nsgetiid
+nsimsgattachment
+getteraddrefs
+element
+element
+element
+geturl
+gettercopies
+url
+url
+isempty
+nsmsgislocalfile
+url
+get
+defined
+debugducarroz
+printf
+adding
+remote
+attachment
+newloc
+url
+get
+endif
+prbool
+isamessageattachment
+plstrncasecmp
+url
+get
+mailbox
+message
+plstrncasecmp
+url
+get
+imap
+message
+plstrncasecmp
+url
+get
+news
+message
+mattachments
+newloc
+mdeletefile
+prtrue
+mattachments
+newloc
+mdone
+prfalse
+mattachments
+newloc
+setmimedeliverystate
+isamessageattachment
+nsmsgnewurl
+getteraddrefs
+mattachments
+newloc
+murl
+url
+get
+prfreeif
+mattachments
+newloc
+mencoding
+mattachments
+newloc
+mencoding
+plstrdup
+bit
+prfreeif
+mattachments
+newloc
+mxmactype
+element
+getmactype
+mattachments
+newloc
+mxmactype
+prfreeif
+mattachments
+newloc
+mxmaccreator
+element
+getmaccreator
+mattachments
+newloc
+mxmaccreator
+prbool
+doaddattachment
+prfalse
+isamessageattachment
+doaddattachment
+prtrue
+plstrncasecmp
+url
+get
+news
+message
+anewscount
+amailboxcount
+mattachments
+newloc
+muri
+plstrdup
+url
+get
+mattachments
+newloc
+murl
+nsnull
+doaddattachment
+nsnull
+mattachments
+newloc
+murl
+doaddattachment
+nsxpidlstring
+proposedname
+element
+getname
+gettercopies
+proposedname
+msgpickrealname
+mattachments
+newloc
+proposedname
+mcompfields
+getcharacterset
+newloc
+nsok
+nsmsgcomposeandsend
+hackattachments
+nsmsgattachmentdata
+attachments
+nsmsgattachedfile
+preloadedattachments
+countcompfieldattachments
+mpreloadedattachmentcount
+mpreloadedattachmentcount
+mcompfieldlocalattachments
+preloadedattachments
+preloadedattachments
+origurl
+preloadedattachments
+mpreloadedattachmentcount
+origurl
+mpreloadedattachmentcount
+mremoteattachmentcount
+getmultipartrelatedcount
+mremoteattachmentcount
+mcompfieldremoteattachments
+print
+tcount
+attachments
+attachments
+url
+attachments
+tcount
+url
+mremoteattachmentcount
+tcount
+mattachmentcount
+mpreloadedattachmentcount
+mremoteattachmentcount
+mattachments
+nsmsgattachmenthandler
+nsmsgattachmenthandler
+mattachmentcount
+mattachments
+nserroroutofmemory
+memset
+mattachments
+nsmsgattachmenthandler
+mattachmentcount
+pruint
+nsfailed
+addcompfieldlocalattachments
+nserrorinvalidarg
+preloadedattachments
+preloadedattachments
+origurl
+mpresnarfedattachmentsp
+prtrue
+mcompfieldlocalattachments
+mpreloadedattachmentcount
+mattachments
+mdeletefile
+prfalse
+mattachments
+setmimedeliverystate
+nsnull
+mattachments
+mdone
+prtrue
+nsassertion
+preloadedattachments
+origurl
+url
+mattachments
+murl
+preloadedattachments
+origurl
+prfreeif
+mattachments
+mtype
+mattachments
+mtype
+plstrdup
+preloadedattachments
+type
+prfreeif
+mattachments
+mcharset
+mattachments
+mcharset
+plstrdup
+mcompfields
+getcharacterset
+mattachments
+mtype
+mattachments
+mtype
+mattachments
+pickencoding
+mcompfields
+getcharacterset
+mattachments
+mtype
+mattachments
+mtype
+plstrcasecmp
+mattachments
+mtype
+texthtml
+preloadedattachments
+filespec
+tmpcharset
+nsmsginparsemetacharset
+preloadedattachments
+filespec
+tmpcharset
+prfreeif
+mattachments
+mcharset
+mattachments
+mcharset
+plstrdup
+tmpcharset
+prfreeif
+mattachments
+mdescription
+mattachments
+mdescription
+plstrdup
+preloadedattachments
+description
+prfreeif
+mattachments
+mrealname
+mattachments
+mrealname
+plstrdup
+preloadedattachments
+realname
+prfreeif
+mattachments
+mxmactype
+mattachments
+mxmactype
+plstrdup
+preloadedattachments
+xmactype
+prfreeif
+mattachments
+mxmaccreator
+mattachments
+mxmaccreator
+plstrdup
+preloadedattachments
+xmaccreator
+prfreeif
+mattachments
+mencoding
+mattachments
+mencoding
+plstrdup
+preloadedattachments
+encoding
+mattachments
+mfilespec
+mattachments
+mdeletefile
+mattachments
+mfilespec
+delete
+prfalse
+mattachments
+mfilespec
+mattachments
+mfilespec
+nsnull
+mattachments
+mfilespec
+nsfilespec
+preloadedattachments
+filespec
+mattachments
+msize
+preloadedattachments
+size
+mattachments
+munprintablecount
+preloadedattachments
+unprintablecount
+mattachments
+mhighbitcount
+preloadedattachments
+highbitcount
+mattachments
+mctlcount
+preloadedattachments
+ctlcount
+mattachments
+mnullcount
+preloadedattachments
+nullcount
+mattachments
+mmaxcolumn
+preloadedattachments
+maxlinelength
+mattachments
+mencoding
+plstrcasecmp
+mattachments
+mencoding
+encodingbit
+plstrcasecmp
+mattachments
+mencoding
+encodingbit
+plstrcasecmp
+mattachments
+mencoding
+encodingbinary
+mattachments
+malreadyencodedp
+prtrue
+mattachments
+murl
+msgpickrealname
+mattachments
+nsnull
+mcompfields
+getcharacterset
+print
+mailboxcount
+newscount
+print
+multipartrelatedcount
+getmultipartrelatedcount
+multipartrelatedcount
+nsresult
+rv
+processmultipartrelated
+mailboxcount
+newscount
+nsfailed
+rv
+rv
+nsfailed
+addcompfieldremoteattachments
+mpreloadedattachmentcount
+multipartrelatedcount
+mailboxcount
+newscount
+nserrorinvalidarg
+attachments
+attachments
+url
+print
+loccount
+mpreloadedattachmentcount
+getmultipartrelatedcount
+mcompfieldremoteattachments
+mattachmentcount
+loccount
+mattachments
+mdeletefile
+prtrue
+mattachments
+mdone
+prfalse
+mattachments
+setmimedeliverystate
+nsassertion
+attachments
+loccount
+url
+url
+mattachments
+murl
+attachments
+loccount
+url
+prfreeif
+mattachments
+moverridetype
+mattachments
+moverridetype
+plstrdup
+attachments
+loccount
+realtype
+prfreeif
+mattachments
+mcharset
+mattachments
+mcharset
+plstrdup
+mcompfields
+getcharacterset
+prfreeif
+mattachments
+moverrideencoding
+mattachments
+moverrideencoding
+plstrdup
+attachments
+loccount
+realencoding
+prfreeif
+mattachments
+mdesiredtype
+mattachments
+mdesiredtype
+plstrdup
+attachments
+loccount
+desiredtype
+prfreeif
+mattachments
+mdescription
+mattachments
+mdescription
+plstrdup
+attachments
+loccount
+description
+prfreeif
+mattachments
+mrealname
+mattachments
+mrealname
+plstrdup
+attachments
+loccount
+realname
+prfreeif
+mattachments
+mxmactype
+mattachments
+mxmactype
+plstrdup
+attachments
+loccount
+xmactype
+prfreeif
+mattachments
+mxmaccreator
+mattachments
+mxmaccreator
+plstrdup
+attachments
+loccount
+xmaccreator
+prfreeif
+mattachments
+mencoding
+mattachments
+mencoding
+plstrdup
+bit
+mattachments
+murl
+nsiuri
+uri
+mattachments
+murl
+prbool
+match
+prfalse
+nssucceeded
+uri
+schemeis
+mailbox
+match
+match
+nssucceeded
+uri
+schemeis
+imap
+match
+match
+mailboxcount
+nssucceeded
+uri
+schemeis
+news
+match
+match
+nssucceeded
+uri
+schemeis
+snews
+match
+match
+newscount
+uri
+msgpickrealname
+mattachments
+nsnull
+mcompfields
+getcharacterset
+prbool
+needtocallgathermimeattachments
+prtrue
+mattachmentcount
+mailboxcount
+newscount
+mbesynchronousp
+prtrue
+mattachmentpendingcount
+mattachmentcount
+mattachmentcount
+mattachments
+mdone
+mattachmentpendingcount
+mattachments
+murl
+mattachments
+muri
+mattachments
+mbogusattachment
+prtrue
+mattachments
+mdone
+prtrue
+mattachments
+setmimedeliverystate
+nsnull
+mattachmentpendingcount
+prunichar
+printfstring
+nsnull
+nsxpidlstring
+msg
+mcomposebundle
+getstringbyid
+nsmsggatheringattachment
+gettercopies
+msg
+mattachments
+mrealname
+printfstring
+nstextformatter
+smprintf
+msg
+mattachments
+mrealname
+printfstring
+nstextformatter
+smprintf
+msg
+printfstring
+setstatusmessage
+printfstring
+prfreeif
+printfstring
+needtocallgathermimeattachments
+prfalse
+status
+mattachments
+snarfattachment
+mcompfields
+status
+status
+mbesynchronousp
+needtocallgathermimeattachments
+gathermimeattachments
+nsmsgcomposeandsend
+setmimeheader
+nsmsgcompfields
+msgheaderid
+header
+value
+dupheader
+nsnull
+print
+ret
+nserroroutofmemory
+header
+nsmsgcompfields
+msgfromheaderid
+nsmsgcompfields
+msgtoheaderid
+nsmsgcompfields
+msgreplytoheaderid
+nsmsgcompfields
+msgccheaderid
+nsmsgcompfields
+msgbccheaderid
+dupheader
+mimefixaddrheader
+value
+nsmsgcompfields
+msgnewsgroupsheaderid
+nsmsgcompfields
+msgfollowuptoheaderid
+dupheader
+mimefixnewsheader
+value
+nsmsgcompfields
+msgfccheaderid
+nsmsgcompfields
+msgorganizationheaderid
+nsmsgcompfields
+msgsubjectheaderid
+nsmsgcompfields
+msgreferencesheaderid
+nsmsgcompfields
+msgxtemplateheaderid
+nsmsgcompfields
+msgattachmentsheaderid
+dupheader
+mimefixheader
+value
+nsassertion
+prfalse
+invalid
+header
+dupheader
+ret
+mcompfields
+setasciiheader
+header
+dupheader
+prfree
+dupheader
+ret
+nsresult
+nsmsgcomposeandsend
+initcompositionfields
+nsmsgcompfields
+fields
+nsresult
+rv
+nsok
+pstr
+nsnull
+nsmsgcompfields
+tptr
+nsmsgcompfields
+tptr
+nserroroutofmemory
+mcompfields
+doqueryinterface
+tptr
+mcompfields
+nserroroutofmemory
+cset
+fields
+getcharacterset
+cset
+cset
+mcompfields
+setcharacterset
+us
+ascii
+mcompfields
+setcharacterset
+fields
+getcharacterset
+pstr
+fields
+getmessageid
+pstr
+mcompfields
+setmessageid
+pstr
+pstr
+fields
+getnewsposturl
+pstr
+pstr
+mcompfields
+setnewsposturl
+pstr
+prbool
+dofcc
+prtrue
+rv
+museridentity
+getdofcc
+dofcc
+dofcc
+mcompfields
+setfcc
+prbool
+usedefaultfcc
+prtrue
+fieldsfcc
+fields
+getfcc
+fieldsfcc
+fieldsfcc
+plstrcasecmp
+fieldsfcc
+nocopy
+usedefaultfcc
+prfalse
+mcompfields
+setfcc
+nscomptr
+nsimsgfolder
+folder
+getexistingfolder
+fieldsfcc
+getteraddrefs
+folder
+folder
+usedefaultfcc
+prfalse
+setmimeheader
+nsmsgcompfields
+msgfccheaderid
+fieldsfcc
+usedefaultfcc
+uri
+getfolderurifromuserprefs
+nsmsgdelivernow
+museridentity
+uri
+uri
+plstrcasecmp
+uri
+nocopy
+mcompfields
+setfcc
+mcompfields
+setfcc
+uri
+plstrfree
+uri
+mcompfields
+setfcc
+fieldsfcc
+fields
+getfcc
+fieldsfcc
+fieldsfcc
+plstrcasecmp
+fieldsfcc
+nocopy
+mcompfields
+setfcc
+mneedtoperformsecondfcc
+prfalse
+mcompfields
+setfcc
+fieldsfcc
+mneedtoperformsecondfcc
+prtrue
+mcompfields
+setnewsposturl
+fields
+getnewsposturl
+setmimeheader
+nsmsgcompfields
+msgfromheaderid
+fields
+getfrom
+setmimeheader
+nsmsgcompfields
+msgreplytoheaderid
+fields
+getreplyto
+setmimeheader
+nsmsgcompfields
+msgtoheaderid
+fields
+getto
+setmimeheader
+nsmsgcompfields
+msgccheaderid
+fields
+getcc
+setmimeheader
+nsmsgcompfields
+msgbccheaderid
+fields
+getbcc
+setmimeheader
+nsmsgcompfields
+msgnewsgroupsheaderid
+fields
+getnewsgroups
+setmimeheader
+nsmsgcompfields
+msgfollowuptoheaderid
+fields
+getfollowupto
+setmimeheader
+nsmsgcompfields
+msgorganizationheaderid
+fields
+getorganization
+setmimeheader
+nsmsgcompfields
+msgsubjectheaderid
+fields
+getsubject
+setmimeheader
+nsmsgcompfields
+msgreferencesheaderid
+fields
+getreferences
+setmimeheader
+nsmsgcompfields
+msgxtemplateheaderid
+fields
+gettemplatename
+nscomptr
+nsisupportsarray
+srcattachmentarray
+fields
+getattachmentsarray
+getteraddrefs
+srcattachmentarray
+srcattachmentarray
+pruint
+pruint
+attachmentcount
+srcattachmentarray
+count
+attachmentcount
+attachmentcount
+nscomptr
+nsimsgattachment
+element
+attachmentcount
+srcattachmentarray
+queryelementat
+nsgetiid
+nsimsgattachment
+getteraddrefs
+element
+element
+mcompfields
+addattachment
+element
+pstr
+fields
+getotherrandomheaders
+pstr
+mcompfields
+setotherrandomheaders
+pstr
+pstr
+fields
+getpriority
+pstr
+mcompfields
+setpriority
+pstr
+mcompfields
+setattachvcard
+fields
+getattachvcard
+mcompfields
+setforceplaintext
+fields
+getforceplaintext
+mcompfields
+setusemultipartalternative
+fields
+getusemultipartalternative
+print
+receipttype
+nsimsgmdngenerator
+ednttype
+fields
+getreceiptheadertype
+receipttype
+mcompfields
+setreturnreceipt
+fields
+getreturnreceipt
+mcompfields
+setreceiptheadertype
+receipttype
+mcompfields
+setuuencodeattachments
+fields
+getuuencodeattachments
+mcompfields
+setbodyisasciionly
+fields
+getbodyisasciionly
+nscomptr
+nsisupports
+secinfo
+fields
+getsecurityinfo
+getteraddrefs
+secinfo
+mcompfields
+setsecurityinfo
+secinfo
+mdelivermode
+nsmsgsaveasdraft
+mdelivermode
+nsmsgsaveastemplate
+rv
+mimesanitycheckfields
+mcompfields
+getfrom
+mcompfields
+getreplyto
+mcompfields
+getto
+mcompfields
+getcc
+mcompfields
+getbcc
+mcompfields
+getfcc
+mcompfields
+getnewsgroups
+mcompfields
+getfollowupto
+mcompfields
+getsubject
+mcompfields
+getreferences
+mcompfields
+getorganization
+mcompfields
+getotherrandomheaders
+rv
+nsresult
+nsmsgcomposeandsend
+snarfandcopybody
+attachmentbody
+pruint
+attachmentbodylength
+attachmenttype
+attachmentbody
+attachmentbodylength
+attachmentbody
+attachmentbodylength
+attachmentbodylength
+attachmentbodylength
+nsresult
+rv
+ensurelinebreaks
+attachmentbody
+attachmentbodylength
+nsensuresuccess
+rv
+rv
+prfreeif
+mattachmenttype
+mattachmenttype
+plstrdup
+attachmenttype
+prfreeif
+mattachmentencoding
+mattachmentencoding
+plstrdup
+bit
+nsok
+nsresult
+nsmsgcomposeandsend
+init
+nsimsgidentity
+auseridentity
+nsmsgcompfields
+fields
+nsfilespec
+sendfilespec
+prbool
+digestp
+prbool
+dontdeliverp
+nsmsgdelivermode
+mode
+nsimsgdbhdr
+msgtoreplace
+attachmenttype
+attachmentbody
+pruint
+attachmentbodylength
+nsmsgattachmentdata
+attachments
+nsmsgattachedfile
+preloadedattachments
+password
+nsresult
+rv
+nsok
+mlasterrorreported
+nsok
+getmultipartrelatedcount
+prtrue
+nsxpidlstring
+msg
+mcomposebundle
+mcomposebundle
+dogetservice
+nsmsgcomposestringservicecontractid
+mcomposebundle
+getstringbyid
+nsmsgassemblingmessage
+gettercopies
+msg
+setstatusmessage
+msg
+msendreport
+msendreport
+setcurrentprocess
+nsimsgsendreport
+processbuildmessage
+returnsimulatederror
+simulatedsenderror
+nserrorfailure
+mdontdeliverp
+dontdeliverp
+mdelivermode
+mode
+mmsgtoreplace
+msgtoreplace
+museridentity
+auseridentity
+nsassertion
+museridentity
+got
+identity
+museridentity
+nserrorunexpected
+fields
+nserroroutofmemory
+rv
+initcompositionfields
+fields
+nsfailed
+rv
+rv
+sendfilespec
+mtempfilespec
+sendfilespec
+nsok
+mdigestp
+digestp
+prbool
+strictlymime
+prtrue
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefcid
+rv
+nssucceeded
+rv
+prefs
+rv
+prefs
+getboolpref
+prefmailstrictlymime
+strictlymime
+rv
+prefs
+getintpref
+prefmailmessagewarningsize
+print
+mmessagewarningsize
+nsmsgmimesetconformtostandard
+strictlymime
+mimeusequotedprintablep
+strictlymime
+meditor
+snarfandcopybody
+attachmentbody
+attachmentbodylength
+attachmenttype
+getmultipartrelatedcount
+rv
+getbodyfromeditor
+nsfailed
+rv
+rv
+msmtppassword
+password
+hackattachments
+attachments
+preloadedattachments
+nsresult
+senddeliverycallback
+nsiuri
+aurl
+nsresult
+aexitcode
+nsmsgdeliverytype
+deliverytype
+nsisupports
+tagdata
+tagdata
+nscomptr
+nsimsgsend
+msgsend
+doqueryinterface
+tagdata
+msgsend
+nserrornullpointer
+deliverytype
+nsmaildelivery
+nsfailed
+aexitcode
+aexitcode
+nserrorunknownhost
+nserrorunknownproxyhost
+aexitcode
+nserrorcouldnotlogintosmtpserver
+aexitcode
+nserrorabort
+nsismsgerror
+aexitcode
+aexitcode
+nserrorsmtpsendfailed
+msgsend
+deliverasmailexit
+aurl
+aexitcode
+deliverytype
+nsnewsdelivery
+nsfailed
+aexitcode
+aexitcode
+nserrorabort
+nsismsgerror
+aexitcode
+aexitcode
+nserrorpostfailed
+msgsend
+deliverasnewsexit
+aurl
+aexitcode
+msgsend
+setrunningrequest
+nsnull
+aexitcode
+nsresult
+nsmsgcomposeandsend
+delivermessage
+msendprogress
+prbool
+canceled
+prfalse
+msendprogress
+getprocesscanceledbyuser
+canceled
+canceled
+nserrorabort
+prbool
+mailp
+mcompfields
+getto
+mcompfields
+getto
+mcompfields
+getcc
+mcompfields
+getcc
+mcompfields
+getbcc
+mcompfields
+getbcc
+prbool
+newsp
+mcompfields
+getnewsgroups
+mcompfields
+getnewsgroups
+prtrue
+prfalse
+mdelivermode
+nsmsgsaveasdraft
+mdelivermode
+nsmsgsaveastemplate
+nsassertion
+mailp
+newsp
+message
+without
+destination
+mdelivermode
+nsmsgqueueforlater
+queueforlater
+mdelivermode
+nsmsgsaveasdraft
+saveasdraft
+mdelivermode
+nsmsgsaveastemplate
+saveastemplate
+mmessagewarningsize
+mtempfilespec
+getfilesize
+mmessagewarningsize
+mguinotificationenabled
+checksimulatederror
+simulatedsenderror
+prbool
+abortthesend
+prfalse
+nsxpidlstring
+msg
+mcomposebundle
+getstringbyid
+nsmsglargemessagewarning
+gettercopies
+msg
+msg
+prunichar
+printfstring
+nstextformatter
+smprintf
+msg
+mtempfilespec
+getfilesize
+printfstring
+nscomptr
+nsiprompt
+prompt
+getdefaultprompt
+getteraddrefs
+prompt
+nsmsgaskbooleanquestionbystring
+prompt
+printfstring
+abortthesend
+abortthesend
+nsresult
+ignoreme
+fail
+nserrorbutdontshowalert
+printfstring
+ignoreme
+prfreeif
+printfstring
+nserrorfailure
+prfreeif
+printfstring
+newsp
+mailp
+msendmailalso
+prtrue
+deliverfileasnews
+mailp
+deliverfileasmail
+nserrorunexpected
+nsok
+stripnonprintable
+dest
+src
+dest
+src
+src
+isprint
+src
+src
+dest
+src
+src
+dest
+src
+dest
+nsresult
+nsmsgcomposeandsend
+deliverfileasmail
+buf
+buf
+buf
+prmalloc
+mcompfields
+getto
+plstrlen
+mcompfields
+getto
+mcompfields
+getcc
+plstrlen
+mcompfields
+getcc
+mcompfields
+getbcc
+plstrlen
+mcompfields
+getbcc
+msendreport
+msendreport
+setcurrentprocess
+nsimsgsendreport
+processsmtp
+nscomptr
+nsiprompt
+promptobject
+getdefaultprompt
+getteraddrefs
+promptobject
+buf
+nsxpidlstring
+emsg
+mcomposebundle
+getstringbyid
+nserroroutofmemory
+gettercopies
+emsg
+nsresult
+ignoreme
+fail
+nserroroutofmemory
+emsg
+ignoreme
+notifylisteneronstopsending
+nsnull
+nserroroutofmemory
+nsnull
+nsnull
+nserroroutofmemory
+nsresult
+rv
+prbool
+collectoutgoingaddresses
+prtrue
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefcid
+rv
+nssucceeded
+rv
+prefs
+prefs
+getboolpref
+prefmailcollectemailaddressoutgoing
+collectoutgoingaddresses
+nscomptr
+nsiabaddresscollecter
+addresscollecter
+dogetservice
+nsabaddresscollectercontractid
+rv
+nsfailed
+rv
+addresscollecter
+nsnull
+prbool
+collectaddresses
+collectoutgoingaddresses
+addresscollecter
+plstrcpy
+buf
+buf
+buf
+plstrlen
+buf
+mcompfields
+getto
+mcompfields
+getto
+plstrcat
+buf
+mcompfields
+getto
+collectaddresses
+addresscollecter
+collectaddress
+mcompfields
+getto
+prtrue
+mcompfields
+getcc
+mcompfields
+getcc
+buf
+plstrcat
+buf
+plstrcat
+buf
+mcompfields
+getcc
+collectaddresses
+addresscollecter
+collectaddress
+mcompfields
+getcc
+prtrue
+mcompfields
+getbcc
+mcompfields
+getbcc
+buf
+plstrcat
+buf
+plstrcat
+buf
+mcompfields
+getbcc
+collectaddresses
+addresscollecter
+collectaddress
+mcompfields
+getbcc
+prtrue
+rv
+stripoutgroupnames
+buf
+nsensuresuccess
+rv
+rv
+convbuf
+nsmsginencodemimepartiistr
+buf
+prtrue
+mcompfields
+getcharacterset
+nsmsgmimegetconformtostandard
+convbuf
+prfreeif
+buf
+buf
+convbuf
+stripnonprintable
+buf
+convbuf
+nsescape
+buf
+urlpath
+convbuf
+nscrt
+free
+buf
+buf
+convbuf
+nscomptr
+nsismtpservice
+smtpservice
+dogetservice
+nssmtpservicecontractid
+rv
+nssucceeded
+rv
+smtpservice
+nsmsgdeliverylistener
+alistener
+nsmsgdeliverylistener
+senddeliverycallback
+nsmaildelivery
+nscomptr
+nsiurllistener
+urilistener
+doqueryinterface
+alistener
+urilistener
+nserroroutofmemory
+nscomptr
+nsifilespec
+afilespec
+nsnewfilespecwithspec
+mtempfilespec
+getteraddrefs
+afilespec
+nscomptr
+nsiinterfacerequestor
+callbacks
+getnotificationcallbacks
+getteraddrefs
+callbacks
+nsxpidlstring
+msg
+mcomposebundle
+getstringbyid
+nsmsgsendingmessage
+gettercopies
+msg
+setstatusmessage
+msg
+nscomptr
+nsimsgstatusfeedback
+msgstatus
+doqueryinterface
+msendprogress
+msgstatus
+msgstatus
+doqueryinterface
+mstatusfeedback
+rv
+smtpservice
+sendmailmessage
+afilespec
+buf
+museridentity
+msmtppassword
+get
+urilistener
+msgstatus
+callbacks
+nsnull
+getteraddrefs
+mrunningrequest
+prfreeif
+buf
+rv
+nsresult
+nsmsgcomposeandsend
+deliverfileasnews
+nsresult
+rv
+nsok
+mcompfields
+getnewsgroups
+rv
+msendreport
+msendreport
+setcurrentprocess
+nsimsgsendreport
+processnntp
+nscomptr
+nsiprompt
+promptobject
+getdefaultprompt
+getteraddrefs
+promptobject
+nscomptr
+nsinntpservice
+nntpservice
+dogetservice
+nsnntpservicecontractid
+rv
+nssucceeded
+rv
+nntpservice
+nsmsgdeliverylistener
+alistener
+nsmsgdeliverylistener
+senddeliverycallback
+nsnewsdelivery
+nscomptr
+nsiurllistener
+urilistener
+doqueryinterface
+alistener
+urilistener
+nserroroutofmemory
+nscomptr
+nsifilespec
+filetopost
+rv
+nsnewfilespecwithspec
+mtempfilespec
+getteraddrefs
+filetopost
+nsfailed
+rv
+rv
+nsxpidlstring
+msg
+mcomposebundle
+getstringbyid
+nsmsgpostingmessage
+gettercopies
+msg
+setstatusmessage
+msg
+nscomptr
+nsimsgmailsession
+mailsession
+dogetservice
+nsmsgmailsessioncontractid
+rv
+nsfailed
+rv
+rv
+mailsession
+nserrorfailure
+nscomptr
+nsimsgwindow
+msgwindow
+rv
+mailsession
+gettopmostmsgwindow
+getteraddrefs
+msgwindow
+nsfailed
+rv
+msgwindow
+nsnull
+rv
+nntpservice
+postmessage
+filetopost
+mcompfields
+getnewsgroups
+mcompfields
+getnewsposturl
+urilistener
+msgwindow
+nsnull
+nsfailed
+rv
+rv
+rv
+nsimethodimp
+nsmsgcomposeandsend
+fail
+nsresult
+failurecode
+prunichar
+errormsg
+nsresult
+retval
+nsensurearg
+retval
+retval
+failurecode
+nsfailed
+failurecode
+nscomptr
+nsiprompt
+prompt
+getdefaultprompt
+getteraddrefs
+prompt
+msendreport
+msendreport
+seterror
+nsimsgsendreport
+processcurrent
+failurecode
+prfalse
+msendreport
+setmessage
+nsimsgsendreport
+processcurrent
+errormsg
+prfalse
+msendreport
+displayreport
+prompt
+prtrue
+prtrue
+retval
+failurecode
+nserrorbutdontshowalert
+nsmsgdisplaymessagebyid
+prompt
+nserrorsendfailed
+mattachmentsdonecallback
+mattachmentsdonecallback
+failurecode
+errormsg
+nsnull
+mattachmentsdonecallback
+nsnull
+mstatus
+nsok
+mstatus
+nserrorbutdontshowalert
+abort
+nsok
+nsresult
+nsmsgcomposeandsend
+formatstringwithsmtphostnamebyid
+print
+amsgid
+prunichar
+astring
+nsensurearg
+astring
+nsresult
+rv
+nscomptr
+nsismtpservice
+smtpservice
+dogetservice
+nssmtpservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+smtphostname
+nscomptr
+nsismtpserver
+smtpserver
+rv
+smtpservice
+getsmtpserverbyidentity
+museridentity
+getteraddrefs
+smtpserver
+nssucceeded
+rv
+smtpserver
+gethostname
+gettercopies
+smtphostname
+nsautostring
+hoststr
+hoststr
+assignwithconversion
+smtphostname
+get
+prunichar
+params
+hoststr
+get
+nscomptr
+nsistringbundle
+bundle
+rv
+mcomposebundle
+getbundle
+getteraddrefs
+bundle
+nssucceeded
+rv
+bundle
+formatstringfromid
+nserrorgetcode
+amsgid
+params
+astring
+rv
+nsmsgcomposeandsend
+dodeliveryexitprocessing
+nsiuri
+auri
+nsresult
+aexitcode
+prbool
+acheckformail
+nsfailed
+aexitcode
+ifdef
+nsdebug
+printf
+nmessage
+delivery
+failed
+endif
+nsxpidlstring
+emsg
+aexitcode
+nserrorsmtpsendfailed
+aexitcode
+nserrorcouldnotlogintosmtpserver
+formatstringwithsmtphostnamebyid
+aexitcode
+gettercopies
+emsg
+mcomposebundle
+getstringbyid
+aexitcode
+gettercopies
+emsg
+fail
+aexitcode
+emsg
+aexitcode
+notifylisteneronstopsending
+nsnull
+aexitcode
+nsnull
+nsnull
+ifdef
+nsdebug
+printf
+nmessage
+delivery
+succeeded
+endif
+acheckformail
+mcompfields
+getto
+mcompfields
+getto
+mcompfields
+getcc
+mcompfields
+getcc
+mcompfields
+getbcc
+mcompfields
+getbcc
+deliverfileasmail
+notifylisteneronstopsending
+nsnull
+aexitcode
+nsnull
+nsnull
+nsresult
+retcode
+dofcc
+nsfailed
+retcode
+ifdef
+nsdebug
+printf
+ndodeliveryexitprocessing
+dofcc
+call
+failed
+endif
+nsimethodimp
+nsmsgcomposeandsend
+deliverasmailexit
+nsiuri
+aurl
+nsresult
+aexitcode
+dodeliveryexitprocessing
+aurl
+aexitcode
+prfalse
+nsok
+nsimethodimp
+nsmsgcomposeandsend
+deliverasnewsexit
+nsiuri
+aurl
+nsresult
+aexitcode
+dodeliveryexitprocessing
+aurl
+aexitcode
+msendmailalso
+nsok
+prbool
+nsmsgcomposeandsend
+cansavemessagestofolder
+folderurl
+nsresult
+rv
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+rdf
+rdf
+service
+rv
+nsfailed
+rv
+prfalse
+nscomptr
+nsirdfresource
+resource
+rv
+rdf
+getresource
+nsdependentcstring
+folderurl
+getteraddrefs
+resource
+nsfailed
+rv
+prfalse
+nscomptr
+nsimsgfolder
+thisfolder
+thisfolder
+doqueryinterface
+resource
+rv
+nsfailed
+rv
+thisfolder
+prfalse
+nscomptr
+nsimsgincomingserver
+server
+rv
+thisfolder
+getserver
+getteraddrefs
+server
+nsfailed
+rv
+server
+prfalse
+prbool
+cansave
+rv
+server
+getcanfilemessagesonserver
+cansave
+cansave
+nsresult
+nsmsgcomposeandsend
+dofcc
+cansavemessagestofolder
+mcompfields
+getfcc
+ifdef
+nsdebug
+printf
+ncopy
+operation
+disabled
+by
+user
+endif
+notifylisteneronstopsending
+nsnull
+nsok
+nsnull
+nsnull
+notifylisteneronstopcopy
+nsok
+nsok
+msendreport
+msendreport
+setcurrentprocess
+nsimsgsendreport
+processcopy
+nsresult
+rv
+mimedofcc
+mtempfilespec
+nsmsgdelivernow
+mcompfields
+getbcc
+mcompfields
+getfcc
+mcompfields
+getnewsposturl
+nsfailed
+rv
+notifylisteneronstopcopy
+rv
+rv
+nsimethodimp
+nsmsgcomposeandsend
+notifylisteneronstartsending
+amsgid
+pruint
+amsgsize
+mlistener
+mlistener
+onstartsending
+amsgid
+amsgsize
+nsok
+nsimethodimp
+nsmsgcomposeandsend
+notifylisteneronprogress
+amsgid
+pruint
+aprogress
+pruint
+aprogressmax
+mlistener
+mlistener
+onprogress
+amsgid
+aprogress
+aprogressmax
+nsok
+nsimethodimp
+nsmsgcomposeandsend
+notifylisteneronstatus
+amsgid
+prunichar
+amsg
+mlistener
+mlistener
+onstatus
+amsgid
+amsg
+nsok
+nsimethodimp
+nsmsgcomposeandsend
+notifylisteneronstopsending
+amsgid
+nsresult
+astatus
+prunichar
+amsg
+nsifilespec
+returnfilespec
+mlistener
+nsnull
+mlistener
+onstopsending
+amsgid
+astatus
+amsg
+returnfilespec
+nsok
+nsimethodimp
+nsmsgcomposeandsend
+notifylisteneronstartcopy
+nscomptr
+nsimsgcopyservicelistener
+copylistener
+mlistener
+copylistener
+doqueryinterface
+mlistener
+copylistener
+copylistener
+onstartcopy
+nsok
+nsimethodimp
+nsmsgcomposeandsend
+notifylisteneronprogresscopy
+pruint
+aprogress
+pruint
+aprogressmax
+nscomptr
+nsimsgcopyservicelistener
+copylistener
+mlistener
+copylistener
+doqueryinterface
+mlistener
+copylistener
+copylistener
+onprogress
+aprogress
+aprogressmax
+nsok
+nsimethodimp
+nsmsgcomposeandsend
+setmessagekey
+pruint
+amessagekey
+mmessagekey
+amessagekey
+nsok
+nsimethodimp
+nsmsgcomposeandsend
+getmessagekey
+pruint
+amessagekey
+amessagekey
+mmessagekey
+nsok
+nsimethodimp
+nsmsgcomposeandsend
+getmessageid
+nscstring
+amessageid
+nsensurearg
+amessageid
+mcompfields
+amessageid
+mcompfields
+getmessageid
+nsok
+nserrornullpointer
+nsimethodimp
+nsmsgcomposeandsend
+notifylisteneronstopcopy
+nsresult
+astatus
+nscomptr
+nsimsgcopyservicelistener
+copylistener
+mcopyobj
+nsrelease
+mcopyobj
+mcopyobj
+nsnull
+nsxpidlstring
+msg
+nssucceeded
+astatus
+mcomposebundle
+getstringbyid
+nsmsgstartcopymessagecomplete
+gettercopies
+msg
+mcomposebundle
+getstringbyid
+nsmsgstartcopymessagefailed
+gettercopies
+msg
+setstatusmessage
+msg
+nscomptr
+nsiprompt
+prompt
+getdefaultprompt
+getteraddrefs
+prompt
+nssucceeded
+astatus
+mneedtoperformsecondfcc
+msendreport
+msendreport
+setcurrentprocess
+nsimsgsendreport
+processfcc
+mneedtoperformsecondfcc
+prfalse
+fcc
+mcompfields
+getfcc
+fcc
+fcc
+nsresult
+rv
+mimedofcc
+mtempfilespec
+nsmsgdelivernow
+mcompfields
+getbcc
+fcc
+mcompfields
+getnewsposturl
+nsfailed
+rv
+fail
+rv
+nsnull
+astatus
+nsok
+nsfailed
+astatus
+fail
+astatus
+nsnull
+astatus
+mlistener
+copylistener
+doqueryinterface
+mlistener
+copylistener
+copylistener
+onstopcopy
+astatus
+astatus
+nsimethodimp
+nsmsgcomposeandsend
+createandsendmessage
+nsieditor
+aeditor
+nsimsgidentity
+auseridentity
+nsimsgcompfields
+fields
+prbool
+digestp
+prbool
+dontdeliverp
+nsmsgdelivermode
+mode
+nsimsgdbhdr
+msgtoreplace
+attachmenttype
+attachmentbody
+pruint
+attachmentbodylength
+nsmsgattachmentdata
+attachments
+nsmsgattachedfile
+preloadedattachments
+relatedpart
+nsidomwindowinternal
+parentwindow
+nsimsgprogress
+progress
+nsimsgsendlistener
+alistener
+password
+nsresult
+rv
+msendreport
+reset
+msendreport
+setdeliverymode
+mode
+mparentwindow
+parentwindow
+msendprogress
+progress
+mlistener
+alistener
+attachmentbody
+attachmentbody
+attachmentbodylength
+attachmentbody
+nsnull
+aeditor
+meditor
+aeditor
+rv
+init
+auseridentity
+nsmsgcompfields
+fields
+nsnull
+digestp
+dontdeliverp
+mode
+msgtoreplace
+attachmenttype
+attachmentbody
+attachmentbodylength
+attachments
+preloadedattachments
+password
+nsfailed
+rv
+msendreport
+msendreport
+seterror
+nsimsgsendreport
+processcurrent
+rv
+prfalse
+rv
+nsresult
+nsmsgcomposeandsend
+sendmessagefile
+nsimsgidentity
+auserindentity
+nsimsgcompfields
+fields
+nsifilespec
+sendifilespec
+prbool
+deletesendfileoncompletion
+prbool
+digestp
+nsmsgdelivermode
+mode
+nsimsgdbhdr
+msgtoreplace
+nsimsgsendlistener
+alistener
+nsimsgstatusfeedback
+astatusfeedback
+password
+nsresult
+rv
+msendreport
+reset
+msendreport
+setdeliverymode
+mode
+fields
+nserrorinvalidarg
+mstatusfeedback
+astatusfeedback
+sendifilespec
+nserrorinvalidarg
+prbool
+valid
+nsfailed
+sendifilespec
+isvalid
+valid
+nserrorinvalidarg
+valid
+nserrorinvalidarg
+nsfilespec
+sendfilespec
+nsnull
+nsfilespec
+tempfilespec
+nsfailed
+sendifilespec
+getfilespec
+tempfilespec
+nserrorunexpected
+sendfilespec
+nsfilespec
+tempfilespec
+sendfilespec
+nserroroutofmemory
+mlistener
+alistener
+deletesendfileoncompletion
+nsnewfilespecwithspec
+sendfilespec
+mreturnfilespec
+mreturnfilespec
+nserroroutofmemory
+rv
+init
+auserindentity
+nsmsgcompfields
+fields
+sendfilespec
+digestp
+prfalse
+mode
+msgtoreplace
+nsnull
+nsnull
+nsnull
+nsnull
+nsnull
+password
+nssucceeded
+rv
+rv
+delivermessage
+nsfailed
+rv
+msendreport
+msendreport
+seterror
+nsimsgsendreport
+processcurrent
+rv
+prfalse
+rv
+nsmsgattachmentdata
+buildurlattachmentdata
+nsiuri
+url
+attachcount
+nsmsgattachmentdata
+attachments
+nsnull
+thename
+nsnull
+url
+nsnull
+attachments
+nsmsgattachmentdata
+prmalloc
+nsmsgattachmentdata
+attachcount
+attachments
+nsnull
+nscautostring
+spec
+url
+getspec
+spec
+spec
+isempty
+thename
+strrchr
+spec
+get
+thename
+thename
+unknown
+thename
+memset
+attachments
+nsmsgattachmentdata
+attachcount
+attachments
+url
+url
+attachments
+realname
+plstrdup
+thename
+nsifaddref
+url
+attachments
+nsresult
+nsmsgcomposeandsend
+sendtomagicfolder
+nsmsgdelivermode
+mode
+nsresult
+rv
+mimedofcc
+mtempfilespec
+mode
+mcompfields
+getbcc
+mcompfields
+getfcc
+mcompfields
+getnewsposturl
+nsfailed
+rv
+rv
+notifylisteneronstopcopy
+rv
+rv
+nsresult
+nsmsgcomposeandsend
+queueforlater
+sendtomagicfolder
+nsmsgqueueforlater
+nsresult
+nsmsgcomposeandsend
+saveasdraft
+sendtomagicfolder
+nsmsgsaveasdraft
+nsresult
+nsmsgcomposeandsend
+saveastemplate
+sendtomagicfolder
+nsmsgsaveastemplate
+nsresult
+nsmsgcomposeandsend
+saveinsentfolder
+sendtomagicfolder
+nsmsgdelivernow
+nsmsggetenvelopeline
+result
+prexplodedtime
+now
+buffer
+prexplodetime
+prnow
+prlocaltimeparameters
+now
+prformattimeusenglish
+buffer
+buffer
+now
+plstrcpy
+result
+from
+plstrcpy
+result
+buffer
+plstrcpy
+result
+crlf
+result
+nsresult
+nsmsgcomposeandsend
+mimedofcc
+nsfilespec
+inputfile
+nsmsgdelivermode
+mode
+bccheader
+fccheader
+newsurl
+nsresult
+status
+nsok
+ibuffer
+print
+ibuffersize
+tenk
+obuffer
+print
+envelopeline
+nsmsggetenvelopeline
+prbool
+folderislocal
+prtrue
+turi
+nsnull
+prunichar
+printfstring
+nsnull
+nsxpidlstring
+foldername
+nsxpidlstring
+msg
+nscomptr
+nsimsgfolder
+folder
+msendprogress
+prbool
+canceled
+prfalse
+msendprogress
+getprocesscanceledbyuser
+canceled
+canceled
+nserrorabort
+msendprogress
+onprogresschange
+nsnull
+nsnull
+mcopyfilespec
+mcopyfilespec
+mcopyfilespec
+mcopyfilespec
+nsnull
+nsfilespec
+tfilespec
+nsmsgcreatetempfilespec
+nscopy
+tmp
+tfilespec
+nserrorfailure
+nsnewfilespecwithspec
+tfilespec
+mcopyfilespec
+mcopyfilespec
+tfilespec
+nserrorinvalidarg
+nsoutputfilestream
+tempoutfile
+tfilespec
+prwronly
+prcreatefile
+tfilespec
+tempoutfile
+isopen
+msendreport
+nsautostring
+errormsg
+nsautostring
+path
+nsmsggetnativepathstring
+tfilespec
+getnativepathcstring
+path
+nsmsgbuilderrormessagebyid
+nsmsgunabletoopentmpfile
+errormsg
+path
+nsnull
+msendreport
+setmessage
+nsimsgsendreport
+processcurrent
+errormsg
+get
+prfalse
+status
+nsmsgunabletoopentmpfile
+nsrelease
+mcopyfilespec
+status
+nsinputfilestream
+inputfile
+inputfile
+inputfile
+isopen
+checksimulatederror
+simulatedsenderror
+msendreport
+nsautostring
+errormsg
+nsautostring
+path
+nsmsggetnativepathstring
+inputfile
+getnativepathcstring
+path
+nsmsgbuilderrormessagebyid
+nsmsgunabletoopenfile
+errormsg
+path
+nsnull
+msendreport
+setmessage
+nsimsgsendreport
+processcurrent
+errormsg
+get
+prfalse
+status
+nsmsgunabletoopenfile
+fail
+ibuffer
+nsnull
+ibuffer
+ibuffersize
+ibuffer
+prmalloc
+ibuffersize
+ibuffer
+ibuffersize
+ibuffer
+status
+nserroroutofmemory
+fail
+getexistingfolder
+fccheader
+getteraddrefs
+folder
+mode
+nsmsgdelivernow
+mode
+nsmsgsendunsent
+folder
+turi
+plstrdup
+fccheader
+turi
+getfolderurifromuserprefs
+mode
+museridentity
+status
+messagefolderislocal
+museridentity
+mode
+turi
+folderislocal
+nsfailed
+status
+fail
+mcomposebundle
+getstringbyid
+nsmsgstartcopymessage
+gettercopies
+msg
+msg
+nscomptr
+nsirdfservice
+rdfservice
+dogetservice
+krdfservicecid
+rdfservice
+nscomptr
+nsirdfresource
+res
+rdfservice
+getresource
+nsdependentcstring
+turi
+getteraddrefs
+res
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+res
+folder
+folder
+getname
+gettercopies
+foldername
+foldername
+isempty
+printfstring
+nstextformatter
+smprintf
+msg
+foldername
+get
+printfstring
+nstextformatter
+smprintf
+msg
+printfstring
+setstatusmessage
+printfstring
+prfreeif
+printfstring
+envelopeline
+folderislocal
+print
+len
+plstrlen
+envelopeline
+tempoutfile
+write
+envelopeline
+len
+len
+status
+nserrorfailure
+fail
+mode
+nsmsgqueueforlater
+mode
+nsmsgsaveasdraft
+mode
+nsmsgsaveastemplate
+mode
+nsmsgdelivernow
+mode
+nsmsgsendunsent
+folderislocal
+buf
+pruint
+flags
+flags
+msgflagread
+mode
+nsmsgqueueforlater
+flags
+msgflagqueued
+buf
+prsmprintf
+xmozillastatusformat
+crlf
+flags
+buf
+print
+len
+plstrlen
+buf
+tempoutfile
+write
+buf
+len
+prfreeif
+buf
+len
+status
+nserrorfailure
+fail
+pruint
+flags
+mode
+nsmsgsaveastemplate
+flags
+msgflagtemplate
+mode
+nsmsgdelivernow
+mode
+nsmsgsendunsent
+flags
+msgflagmdnreportneeded
+flags
+msgflagmdnreportsent
+buf
+prsmprintf
+xmozillastatusformat
+crlf
+flags
+buf
+print
+len
+plstrlen
+buf
+tempoutfile
+write
+buf
+len
+prfreeif
+buf
+len
+status
+nserrorfailure
+fail
+mode
+nsmsgqueueforlater
+mode
+nsmsgsaveasdraft
+mode
+nsmsgsaveastemplate
+fccheader
+fccheader
+print
+plstrlen
+fccheader
+buf
+prmalloc
+buf
+status
+nserroroutofmemory
+fail
+prsnprintf
+buf
+fcc
+crlf
+fccheader
+print
+len
+plstrlen
+buf
+tempoutfile
+write
+buf
+len
+len
+status
+nserrorfailure
+fail
+nsmsgqueueforlater
+mode
+nsmsgsaveasdraft
+mode
+nsmsgsaveastemplate
+mode
+museridentity
+key
+nsnull
+nssucceeded
+museridentity
+getkey
+key
+key
+tmpline
+prsmprintf
+headerxmozillaidentitykey
+crlf
+key
+tmpline
+print
+len
+strlen
+tmpline
+tempoutfile
+write
+tmpline
+len
+len
+status
+nserrorfailure
+fail
+bccheader
+bccheader
+ifndef
+savebccinfccfile
+mode
+msgqueueforlater
+mode
+msgsaveasdraft
+mode
+msgsaveastemplate
+endif
+convbcc
+convbcc
+nsmsginencodemimepartiistr
+bccheader
+prtrue
+mcompfields
+getcharacterset
+bcc
+nsmsgmimegetconformtostandard
+print
+strlen
+convbcc
+convbcc
+bccheader
+buf
+prmalloc
+buf
+status
+nserroroutofmemory
+fail
+prsnprintf
+buf
+bcc
+crlf
+convbcc
+convbcc
+bccheader
+print
+len
+strlen
+buf
+tempoutfile
+write
+buf
+len
+prfree
+buf
+prfreeif
+convbcc
+len
+status
+nserrorfailure
+fail
+mode
+nsmsgqueueforlater
+mode
+nsmsgsaveasdraft
+mode
+nsmsgsaveastemplate
+newsurl
+newsurl
+prbool
+securep
+newsurl
+newsurl
+orighap
+nsmsgparseurlhost
+newsurl
+hostandport
+orighap
+hostandport
+at
+plstrchr
+hostandport
+at
+hostandport
+at
+hostandport
+hostandport
+securep
+line
+prsmprintf
+xmozillanewshost
+crlf
+hostandport
+hostandport
+securep
+secure
+prfreeif
+orighap
+orighap
+line
+status
+nserroroutofmemory
+fail
+print
+len
+plstrlen
+line
+tempoutfile
+write
+line
+len
+prfreeif
+line
+len
+status
+nserrorfailure
+fail
+prfreeif
+orighap
+orighap
+inputfile
+eof
+inputfile
+readline
+ibuffer
+ibuffersize
+ibuffer
+status
+nserrorfailure
+fail
+tempoutfile
+write
+ibuffer
+plstrlen
+ibuffer
+tempoutfile
+write
+crlf
+print
+plstrlen
+ibuffer
+status
+nsmsgerrorwritingfile
+fail
+tempoutfile
+write
+crlf
+status
+nsmsgerrorwritingfile
+fail
+fail
+ibuffer
+prfreeif
+ibuffer
+obuffer
+obuffer
+ibuffer
+prfreeif
+obuffer
+tempoutfile
+isopen
+nsfailed
+tempoutfile
+flush
+tempoutfile
+failed
+status
+nsmsgerrorwritingfile
+tempoutfile
+close
+mcopyfilespec
+mcopyfilespec
+closestream
+inputfile
+isopen
+inputfile
+close
+nssucceeded
+status
+status
+startmessagecopyoperation
+mcopyfilespec
+mode
+turi
+prfreeif
+turi
+status
+nsresult
+nsmsgcomposeandsend
+startmessagecopyoperation
+nsifilespec
+afilespec
+nsmsgdelivermode
+mode
+desturi
+mcopyobj
+nsmsgcopy
+mcopyobj
+nserroroutofmemory
+nsaddref
+mcopyobj
+nsresult
+rv
+desturi
+desturi
+mfoldername
+desturi
+mfoldername
+getfolderurifromuserprefs
+mode
+museridentity
+mlistener
+mlistener
+ongetdraftfolderuri
+mfoldername
+get
+rv
+mcopyobj
+startcopyoperation
+museridentity
+afilespec
+mode
+mfoldername
+get
+mmsgtoreplace
+rv
+nsresult
+nsmsgcomposeandsend
+setstatusmessage
+prunichar
+amsgstring
+msendprogress
+msendprogress
+onstatuschange
+nsnull
+nsnull
+amsgstring
+nsok
+nsresult
+nsmsgcomposeandsend
+setguinotificationstate
+prbool
+aenableflag
+mguinotificationenabled
+aenableflag
+nsok
+nsimethodimp
+nsmsgcomposeandsend
+getsendreport
+nsimsgsendreport
+asendreport
+nsensureargpointer
+asendreport
+asendreport
+msendreport
+nsifaddref
+asendreport
+nsok
+nsresult
+nsmsgcomposeandsend
+abort
+pruint
+nsresult
+rv
+mabortinprocess
+nsok
+mabortinprocess
+prtrue
+mplaintext
+rv
+mplaintext
+abort
+mattachments
+mattachmentcount
+nsmsgattachmenthandler
+ma
+mattachments
+ma
+rv
+ma
+abort
+mrunningrequest
+mrunningrequest
+cancel
+nserrorabort
+mrunningrequest
+nsnull
+mabortinprocess
+prfalse
+nsok
+nsimethodimp
+nsmsgcomposeandsend
+getprocessattachmentssynchronously
+prbool
+retval
+nsensurearg
+retval
+retval
+mbesynchronousp
+nsok
+nsimethodimp
+nsmsgcomposeandsend
+getattachmenthandlers
+nsmsgattachmenthandler
+retval
+nsensurearg
+retval
+retval
+mattachments
+nsok
+nsimethodimp
+nsmsgcomposeandsend
+getattachmentcount
+pruint
+aattachmentcount
+nsensurearg
+aattachmentcount
+aattachmentcount
+mattachmentcount
+nsok
+nsimethodimp
+nsmsgcomposeandsend
+getpendingattachmentcount
+pruint
+apendingattachmentcount
+nsensurearg
+apendingattachmentcount
+apendingattachmentcount
+mattachmentpendingcount
+nsok
+nsimethodimp
+nsmsgcomposeandsend
+setpendingattachmentcount
+pruint
+apendingattachmentcount
+mattachmentpendingcount
+apendingattachmentcount
+nsok
+nsimethodimp
+nsmsgcomposeandsend
+getdeliverymode
+nsmsgdelivermode
+adeliverymode
+nsensurearg
+adeliverymode
+adeliverymode
+mdelivermode
+nsok
+nsimethodimp
+nsmsgcomposeandsend
+getprogress
+nsimsgprogress
+retval
+nsensurearg
+retval
+retval
+msendprogress
+nsifaddref
+retval
+nsok
+nsimethodimp
+nsmsgcomposeandsend
+getoutputstream
+nsoutputfilestream
+retval
+nsensurearg
+retval
+retval
+moutputfile
+nsok
+nsimethodimp
+nsmsgcomposeandsend
+getrunningrequest
+nsirequest
+request
+nsensurearg
+request
+request
+mrunningrequest
+nsifaddref
+request
+nsok
+nsimethodimp
+nsmsgcomposeandsend
+setrunningrequest
+nsirequest
+request
+mrunningrequest
+request
+nsok
+nsimethodimp
+nsmsgcomposeandsend
+getstatus
+nsresult
+astatus
+nsensurearg
+astatus
+astatus
+mstatus
+nsok
+nsimethodimp
+nsmsgcomposeandsend
+setstatus
+nsresult
+astatus
+mstatus
+astatus
+nsok
+nsimethodimp
+nsmsgcomposeandsend
+getcryptoclosure
+nsimsgcomposesecure
+acryptoclosure
+nsensurearg
+acryptoclosure
+acryptoclosure
+mcryptoclosure
+nsifaddref
+acryptoclosure
+nsok
+nsimethodimp
+nsmsgcomposeandsend
+setcryptoclosure
+nsimsgcomposesecure
+acryptoclosure
+mcryptoclosure
+acryptoclosure
+nsok
\ No newline at end of file
@@ -0,0 +1,1660 @@
+nsmsgsendlater
+nscomptr
+nsmsgcopy
+nsipref
+nsienumerator
+nsifilespec
+nsismtpservice
+nsimsgmailnewsurl
+nsmsgdeliverylistener
+nsimsgincomingserver
+nsicopymessagelistener
+nsimsgmessageservice
+nsimsgmailsession
+nsimsgaccountmanager
+nsmsgbasecid
+nsmsgcompcid
+nsmsgcomputils
+nsmsgutils
+nsmsgfolderflags
+nsisupportsarray
+nsmailheaders
+nsmsgprompts
+nsimsgsendlistener
+nsimsgsendlaterlistener
+nsmsgcopy
+nsmsgcomposestringbundle
+nsxpidlstring
+nsiprompt
+nsiuri
+nsismtpurl
+nsichannel
+prlog
+nsmsgsimulateerror
+nsimimeconverter
+nsmsgmimecid
+nsdefinecid
+kprefcid
+nsprefcid
+nsdefinecid
+kisupportsarraycid
+nssupportsarraycid
+nsimplisupports
+nsmsgsendlater
+nsimsgsendlater
+nsistreamlistener
+nsmsgsendlater
+nsmsgsendlater
+mtempifilespec
+nsnull
+mtempfilespec
+nsnull
+moutfile
+nsnull
+mtotalsentsuccessfully
+mtotalsendcount
+mmessagefolder
+nsnull
+mmessage
+nsnull
+mleftoverbuffer
+nsnull
+mlistenerarray
+nsnull
+mlistenerarraycount
+mto
+nsnull
+mbcc
+nsnull
+mfcc
+nsnull
+mnewsgroups
+nsnull
+mnewshost
+nsnull
+mheaders
+nsnull
+mflags
+mheadersfp
+minhead
+prtrue
+mheadersposition
+mbytesread
+mposition
+mflagsposition
+mheaderssize
+midentitykey
+nsnull
+mrequestreturnreceipt
+prfalse
+nsnewisupportsarray
+getteraddrefs
+mmessagestosend
+nsmsgsendlater
+nsmsgsendlater
+nsifrelease
+mtempifilespec
+prfree
+mto
+prfree
+mfcc
+prfree
+mbcc
+prfree
+mnewsgroups
+prfree
+mnewshost
+prfree
+mheaders
+prfree
+mleftoverbuffer
+prfree
+midentitykey
+nsimethodimp
+nsmsgsendlater
+onstoprequest
+nsirequest
+request
+nsisupports
+ctxt
+nsresult
+status
+nsresult
+rv
+mleftoverbuffer
+deliverqueuedline
+mleftoverbuffer
+plstrlen
+mleftoverbuffer
+moutfile
+moutfile
+close
+setsimulatederror
+simulatedsenderror
+status
+nserrorfailure
+nssucceeded
+status
+rv
+completemailfilesend
+ifdef
+nsdebug
+printf
+nsmsgsendlater
+success
+on
+getting
+message
+endif
+nsfailed
+rv
+rv
+startnextmailfilesend
+nsfailed
+rv
+notifylistenersonstopsending
+rv
+nsnull
+mtotalsendcount
+mtotalsentsuccessfully
+nscomptr
+nsichannel
+channel
+doqueryinterface
+request
+channel
+nserrorfailure
+nscomptr
+nsiuri
+uri
+nscomptr
+nsiprompt
+promptobject
+channel
+channel
+geturi
+getteraddrefs
+uri
+nscomptr
+nsismtpurl
+smtpurl
+doqueryinterface
+uri
+smtpurl
+smtpurl
+getprompt
+getteraddrefs
+promptobject
+nsmsgdisplaymessagebyid
+promptobject
+nserrorqueueddeliveryfailed
+rv
+startnextmailfilesend
+nsfailed
+rv
+notifylistenersonstopsending
+rv
+nsnull
+mtotalsendcount
+mtotalsentsuccessfully
+rv
+findeol
+inbuf
+bufend
+buf
+inbuf
+findloc
+nsnull
+buf
+bufend
+buf
+buf
+buf
+nscrt
+lf
+buf
+nscrt
+cr
+findloc
+buf
+buf
+findloc
+nsnull
+findloc
+bufend
+buf
+findloc
+nscrt
+lf
+findloc
+nscrt
+cr
+findloc
+nscrt
+cr
+findloc
+nscrt
+lf
+findloc
+findloc
+nsresult
+nsmsgsendlater
+rebufferleftovers
+startbuf
+pruint
+alen
+prfreeif
+mleftoverbuffer
+mleftoverbuffer
+prmalloc
+alen
+mleftoverbuffer
+nserroroutofmemory
+memcpy
+mleftoverbuffer
+startbuf
+alen
+mleftoverbuffer
+alen
+nsok
+nsresult
+nsmsgsendlater
+buildnewbuffer
+abuf
+pruint
+acount
+pruint
+totalbufsize
+mleftoverbuffer
+nserrorfailure
+print
+leftoversize
+plstrlen
+mleftoverbuffer
+mleftoverbuffer
+prrealloc
+mleftoverbuffer
+acount
+leftoversize
+mleftoverbuffer
+nserrorfailure
+memcpy
+mleftoverbuffer
+leftoversize
+abuf
+acount
+totalbufsize
+acount
+leftoversize
+nsok
+nsimethodimp
+nsmsgsendlater
+ondataavailable
+nsirequest
+request
+nsisupports
+ctxt
+nsiinputstream
+instr
+pruint
+sourceoffset
+pruint
+count
+nsresult
+rv
+nsok
+startbuf
+endbuf
+lineend
+newbuf
+nsnull
+pruint
+size
+pruint
+acount
+count
+abuf
+prmalloc
+acount
+instr
+read
+abuf
+count
+acount
+nsfailed
+buildnewbuffer
+abuf
+acount
+size
+startbuf
+abuf
+endbuf
+abuf
+acount
+newbuf
+mleftoverbuffer
+startbuf
+newbuf
+endbuf
+startbuf
+size
+mleftoverbuffer
+nsnull
+startbuf
+endbuf
+lineend
+findeol
+startbuf
+endbuf
+lineend
+rv
+rebufferleftovers
+startbuf
+endbuf
+startbuf
+rv
+deliverqueuedline
+startbuf
+lineend
+startbuf
+nsfailed
+rv
+startbuf
+lineend
+prfree
+newbuf
+prfree
+abuf
+rv
+nsimethodimp
+nsmsgsendlater
+onstartrequest
+nsirequest
+request
+nsisupports
+ctxt
+nsok
+nsimplisupports
+sendoperationlistener
+nsimsgsendlistener
+nsimsgcopyservicelistener
+sendoperationlistener
+sendoperationlistener
+msendlater
+nsnull
+sendoperationlistener
+sendoperationlistener
+nsresult
+sendoperationlistener
+setsendlaterobject
+nsmsgsendlater
+obj
+msendlater
+obj
+nsok
+nsresult
+sendoperationlistener
+ongetdraftfolderuri
+afolderuri
+nsok
+nsresult
+sendoperationlistener
+onstartsending
+amsgid
+pruint
+amsgsize
+ifdef
+nsdebug
+printf
+sendoperationlistener
+onstartsending
+endif
+nsok
+nsresult
+sendoperationlistener
+onprogress
+amsgid
+pruint
+aprogress
+pruint
+aprogressmax
+ifdef
+nsdebug
+printf
+sendoperationlistener
+onprogress
+endif
+nsok
+nsresult
+sendoperationlistener
+onstatus
+amsgid
+prunichar
+amsg
+ifdef
+nsdebug
+printf
+sendoperationlistener
+onstatus
+endif
+nsok
+nsresult
+sendoperationlistener
+onsendnotperformed
+amsgid
+nsresult
+astatus
+nsok
+nsresult
+sendoperationlistener
+onstopsending
+amsgid
+nsresult
+astatus
+prunichar
+amsg
+nsifilespec
+returnfilespec
+nsresult
+rv
+nsok
+msendlater
+nssucceeded
+astatus
+ifdef
+nsdebug
+printf
+nsmsgsendlater
+success
+on
+the
+message
+send
+operation
+endif
+prbool
+deletemsgs
+prtrue
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefcid
+rv
+nssucceeded
+rv
+prefs
+prefs
+getboolpref
+mail
+reallydeletedraft
+deletemsgs
+deletemsgs
+msendlater
+deletecurrentmessage
+msendlater
+mtotalsentsuccessfully
+msendlater
+msendlater
+notifylistenersonstopsending
+astatus
+nsnull
+msendlater
+mtotalsendcount
+msendlater
+mtotalsentsuccessfully
+nsrelease
+msendlater
+rv
+nsresult
+sendoperationlistener
+onstartcopy
+nsok
+nsresult
+sendoperationlistener
+onprogress
+pruint
+aprogress
+pruint
+aprogressmax
+nsok
+nsresult
+sendoperationlistener
+setmessagekey
+pruint
+akey
+nsnotreached
+sendoperationlistener
+setmessagekey
+nserrornotimplemented
+nsresult
+sendoperationlistener
+getmessageid
+nscstring
+amessageid
+nsnotreached
+sendoperationlistener
+getmessageid
+nserrornotimplemented
+nsresult
+sendoperationlistener
+onstopcopy
+nsresult
+astatus
+msendlater
+nsresult
+rv
+rv
+msendlater
+startnextmailfilesend
+nsfailed
+rv
+msendlater
+notifylistenersonstopsending
+rv
+nsnull
+msendlater
+mtotalsendcount
+msendlater
+mtotalsentsuccessfully
+nsrelease
+msendlater
+nsok
+nsresult
+nsmsgsendlater
+completemailfilesend
+nscomptr
+nsimsgidentity
+identity
+nsresult
+rv
+getidentityfromkey
+midentitykey
+getteraddrefs
+identity
+nsensuresuccess
+rv
+rv
+prbool
+created
+mtempifilespec
+exists
+created
+created
+nserrorfailure
+nsxpidlcstring
+recips
+nsxpidlcstring
+cclist
+nsfailed
+mmessage
+getrecipients
+gettercopies
+recips
+nserrorunexpected
+mmessage
+getcclist
+gettercopies
+cclist
+nscomptr
+nsimsgcompfields
+compfields
+docreateinstance
+nsmsgcompfieldscontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgsend
+pmsgsend
+docreateinstance
+nsmsgsendcontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimimeconverter
+mimeconverter
+dogetservice
+nsmimeconvertercontractid
+rv
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+author
+mmessage
+getauthor
+gettercopies
+author
+nsmsgcompfields
+fields
+nsmsgcompfields
+compfields
+get
+nsxpidlcstring
+decodedstring
+mimeconverter
+decodemimeheader
+author
+get
+gettercopies
+decodedstring
+fields
+setfrom
+decodedstring
+isempty
+author
+get
+decodedstring
+get
+mto
+mimeconverter
+decodemimeheader
+mto
+gettercopies
+decodedstring
+fields
+setto
+decodedstring
+isempty
+mto
+decodedstring
+get
+mbcc
+mimeconverter
+decodemimeheader
+mbcc
+gettercopies
+decodedstring
+fields
+setbcc
+decodedstring
+isempty
+mbcc
+decodedstring
+get
+mfcc
+mimeconverter
+decodemimeheader
+mfcc
+gettercopies
+decodedstring
+fields
+setfcc
+decodedstring
+isempty
+mfcc
+decodedstring
+get
+mnewsgroups
+fields
+setnewsgroups
+mnewsgroups
+mnewshost
+fields
+setnewshost
+mnewshost
+endif
+mrequestreturnreceipt
+fields
+setreturnreceipt
+prtrue
+sendoperationlistener
+sendlistener
+sendoperationlistener
+sendlistener
+nserroroutofmemory
+nsaddref
+sendlistener
+sendlistener
+setsendlaterobject
+nscomptr
+nsimsgstatusfeedback
+statusfeedback
+mwindow
+mwindow
+getstatusfeedback
+getteraddrefs
+statusfeedback
+nsaddref
+rv
+pmsgsend
+sendmessagefile
+identity
+compfields
+mtempifilespec
+prtrue
+prfalse
+nsimsgsend
+nsmsgsendunsent
+nsnull
+sendlistener
+statusfeedback
+nsnull
+nsifrelease
+sendlistener
+rv
+nsresult
+nsmsgsendlater
+startnextmailfilesend
+nsfilespec
+filespec
+nsresult
+rv
+nsok
+nsxpidlcstring
+messageuri
+menumerator
+menumerator
+isdone
+nsok
+ifdef
+nsdebug
+printf
+nsmsgsendlater
+finished
+send
+later
+operation
+endif
+mmessagestosend
+clear
+notifylistenersonstopsending
+nsok
+nsnull
+mtotalsendcount
+mtotalsentsuccessfully
+nsok
+nscomptr
+nsisupports
+currentitem
+menumerator
+currentitem
+getteraddrefs
+currentitem
+menumerator
+next
+mmessage
+doqueryinterface
+currentitem
+mmessage
+nserrornotavailable
+nscomptr
+nsimsgdbhdr
+myrdfnode
+myrdfnode
+doqueryinterface
+mmessage
+rv
+nsfailed
+rv
+myrdfnode
+nserrornotavailable
+mmessagefolder
+geturiformsg
+mmessage
+gettercopies
+messageuri
+ifdef
+nsdebug
+nsxpidlcstring
+subject
+mmessage
+getsubject
+gettercopies
+subject
+printf
+sending
+message
+subject
+endif
+mtempfilespec
+nsmsgcreatetempfilespec
+nsqmail
+tmp
+mtempfilespec
+nserrorfailure
+nsnewfilespecwithspec
+mtempfilespec
+mtempifilespec
+mtempifilespec
+nserrorfailure
+nscomptr
+nsimsgmessageservice
+messageservice
+rv
+getmessageservicefromuri
+messageuri
+getteraddrefs
+messageservice
+nsfailed
+rv
+messageservice
+nserrorfactorynotloaded
+mtotalsendcount
+minhead
+prtrue
+mheadersfp
+mheadersposition
+mbytesread
+mposition
+mflagsposition
+mheaderssize
+prfreeif
+mleftoverbuffer
+nsaddref
+nscomptr
+nsistreamlistener
+convertedlistener
+doqueryinterface
+convertedlistener
+rv
+messageservice
+displaymessage
+messageuri
+convertedlistener
+nsnull
+nsnull
+nsnull
+nsnull
+rv
+nserrorfailure
+release
+nsfailed
+rv
+rv
+nsok
+nsimethodimp
+nsmsgsendlater
+getunsentmessagesfolder
+nsimsgidentity
+aidentity
+nsimsgfolder
+folder
+uri
+getfolderurifromuserprefs
+nsimsgsend
+nsmsgqueueforlater
+aidentity
+uri
+nserroroutofmemory
+nsresult
+rv
+locatemessagefolder
+aidentity
+nsimsgsend
+nsmsgqueueforlater
+uri
+folder
+prfree
+uri
+rv
+nsimethodimp
+nsmsgsendlater
+sendunsentmessages
+nsimsgidentity
+identity
+nsresult
+rv
+getunsentmessagesfolder
+identity
+getteraddrefs
+mmessagefolder
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisimpleenumerator
+enumerator
+nsresult
+ret
+mmessagefolder
+getmessages
+mwindow
+getteraddrefs
+enumerator
+nsfailed
+ret
+enumerator
+nserrorfailure
+nscomptr
+nsisupports
+currentitem
+prbool
+hasmoreelements
+prfalse
+nssucceeded
+enumerator
+hasmoreelements
+hasmoreelements
+hasmoreelements
+rv
+enumerator
+getnext
+getteraddrefs
+currentitem
+nssucceeded
+rv
+currentitem
+mmessagestosend
+appendelement
+currentitem
+mmessagestosend
+enumerate
+getteraddrefs
+menumerator
+startnextmailfilesend
+nsresult
+nsmsgsendlater
+deletecurrentmessage
+nscomptr
+nsisupportsarray
+msgarray
+nsresult
+res
+nscomponentmanager
+createinstance
+kisupportsarraycid
+nsgetiid
+nsisupportsarray
+getteraddrefs
+msgarray
+nsfailed
+res
+msgarray
+nserrorfactorynotloaded
+nscomptr
+nsisupports
+msgsupport
+doqueryinterface
+mmessage
+res
+msgarray
+insertelementat
+msgsupport
+res
+mmessagefolder
+deletemessages
+msgarray
+nsnull
+prtrue
+prfalse
+nsnull
+prfalse
+nsfailed
+res
+nserrorfailure
+nsok
+define
+unhex
+nsresult
+nsmsgsendlater
+buildheaders
+buf
+mheaders
+bufend
+buf
+mheadersfp
+prfreeif
+mto
+prfreeif
+mbcc
+prfreeif
+mnewsgroups
+prfreeif
+mnewshost
+prfreeif
+mfcc
+prfreeif
+midentitykey
+mflags
+buf
+bufend
+prbool
+prunep
+prfalse
+prbool
+doflagsp
+prfalse
+prbool
+doreturnreceiptp
+prfalse
+colon
+plstrchr
+buf
+end
+value
+header
+headerstart
+buf
+colon
+end
+colon
+end
+buf
+end
+end
+end
+buf
+plstrncasecmp
+bcc
+buf
+end
+buf
+header
+mbcc
+prunep
+prtrue
+plstrncasecmp
+cc
+buf
+end
+buf
+header
+mto
+plstrncasecmp
+headercontentlength
+buf
+end
+buf
+prunep
+prtrue
+plstrncasecmp
+fcc
+buf
+end
+buf
+header
+mfcc
+prunep
+prtrue
+plstrncasecmp
+lines
+buf
+end
+buf
+prunep
+prtrue
+plstrncasecmp
+newsgroups
+buf
+end
+buf
+header
+mnewsgroups
+plstrncasecmp
+sender
+buf
+end
+buf
+prunep
+prtrue
+plstrncasecmp
+to
+buf
+end
+buf
+header
+mto
+print
+headlen
+plstrlen
+headerxmozillastatus
+headlen
+end
+buf
+plstrncasecmp
+headerxmozillastatus
+buf
+end
+buf
+prunep
+prtrue
+plstrlen
+headerxmozillastatus
+end
+buf
+plstrncasecmp
+headerxmozillastatus
+buf
+end
+buf
+prunep
+doflagsp
+prtrue
+plstrncasecmp
+headerxmozilladraftinfo
+buf
+end
+buf
+prunep
+doreturnreceiptp
+prtrue
+plstrncasecmp
+headerxmozillanewshost
+buf
+end
+buf
+prunep
+prtrue
+header
+mnewshost
+plstrncasecmp
+headerxmozillaidentitykey
+buf
+end
+buf
+prunep
+prtrue
+header
+midentitykey
+buf
+colon
+buf
+buf
+buf
+value
+buf
+searchnewline
+buf
+buf
+nscrt
+cr
+buf
+nscrt
+lf
+buf
+buf
+bufend
+buf
+bufend
+buf
+nscrt
+cr
+buf
+nscrt
+lf
+buf
+buf
+buf
+searchnewline
+buf
+nscrt
+cr
+buf
+nscrt
+lf
+buf
+buf
+buf
+searchnewline
+header
+buf
+value
+header
+newh
+prrealloc
+header
+plstrlen
+header
+newh
+nserroroutofmemory
+header
+newh
+newh
+header
+plstrlen
+header
+newh
+newh
+memcpy
+newh
+value
+newh
+header
+prmalloc
+header
+nserroroutofmemory
+memcpy
+header
+value
+header
+doflagsp
+value
+prassert
+mflags
+mflags
+mflags
+unhex
+doreturnreceiptp
+buf
+value
+draftinfo
+prmalloc
+receipt
+draftinfo
+nserroroutofmemory
+memcpy
+draftinfo
+value
+draftinfo
+receipt
+plstrstr
+draftinfo
+receipt
+receipt
+receipt
+requestforreturnreceipt
+prsscanf
+requestforreturnreceipt
+requestforreturnreceipt
+requestforreturnreceipt
+mrequestreturnreceipt
+prtrue
+prfree
+draftinfo
+buf
+nscrt
+cr
+buf
+nscrt
+lf
+buf
+nscrt
+cr
+buf
+nscrt
+lf
+buf
+buf
+prunep
+to
+headerstart
+from
+buf
+from
+bufend
+to
+from
+buf
+headerstart
+bufend
+to
+mheadersfp
+bufend
+mheaders
+mheaders
+mheadersfp
+nscrt
+cr
+mheaders
+mheadersfp
+nscrt
+lf
+nsok
+dogrowbuffer
+print
+desiredsize
+print
+elementsize
+print
+quantum
+buffer
+print
+size
+size
+desiredsize
+newbuf
+print
+increment
+desiredsize
+size
+increment
+quantum
+increment
+quantum
+newbuf
+buffer
+prrealloc
+buffer
+size
+increment
+elementsize
+prmalloc
+size
+increment
+elementsize
+newbuf
+nserroroutofmemory
+buffer
+newbuf
+size
+increment
+define
+dogrowheaders
+desiredsize
+desiredsize
+mheaderssize
+dogrowbuffer
+desiredsize
+mheaders
+mheaderssize
+nsresult
+nsmsgsendlater
+deliverqueuedline
+line
+print
+length
+print
+flength
+length
+mbytesread
+length
+plstrncasecmp
+line
+from
+nsok
+minhead
+mheadersposition
+mheadersposition
+mposition
+prfreeif
+mto
+prfreeif
+mbcc
+prfreeif
+mnewsgroups
+prfreeif
+mnewshost
+prfreeif
+mfcc
+prfreeif
+midentitykey
+line
+nscrt
+cr
+line
+nscrt
+lf
+line
+minhead
+prfalse
+moutfile
+nsoutputfilestream
+mtempfilespec
+prwronly
+prcreatefile
+moutfile
+moutfile
+isopen
+nsmsgerrorwritingfile
+nsresult
+status
+buildheaders
+nsfailed
+status
+status
+moutfile
+write
+mheaders
+mheadersfp
+mheadersfp
+nsmsgerrorwritingfile
+plstrncasecmp
+line
+headerxmozillastatus
+plstrlen
+headerxmozillastatus
+mflagsposition
+mposition
+mheadersfp
+mflagsposition
+nsresult
+status
+dogrowheaders
+length
+mheadersfp
+nsfailed
+status
+status
+memcpy
+mheaders
+mheadersfp
+line
+length
+mheadersfp
+length
+prassert
+moutfile
+moutfile
+print
+wrote
+moutfile
+write
+line
+length
+wrote
+print
+length
+nsmsgerrorwritingfile
+mposition
+flength
+nsok
+nsimethodimp
+nsmsgsendlater
+setmsgwindow
+nsimsgwindow
+amsgwindow
+mwindow
+amsgwindow
+nsok
+nsimethodimp
+nsmsgsendlater
+getmsgwindow
+nsimsgwindow
+amsgwindow
+nsensurearg
+amsgwindow
+amsgwindow
+mwindow
+nsifaddref
+amsgwindow
+nsok
+nsimethodimp
+nsmsgsendlater
+addlistener
+nsimsgsendlaterlistener
+alistener
+mlistenerarraycount
+mlistenerarray
+mlistenerarraycount
+mlistenerarray
+nsimsgsendlaterlistener
+prrealloc
+mlistenerarray
+nsimsgsendlaterlistener
+mlistenerarraycount
+mlistenerarray
+nserroroutofmemory
+mlistenerarray
+mlistenerarraycount
+alistener
+nsok
+mlistenerarraycount
+mlistenerarray
+nsimsgsendlaterlistener
+prmalloc
+nsimsgsendlaterlistener
+mlistenerarraycount
+mlistenerarray
+nserroroutofmemory
+memset
+mlistenerarray
+nsimsgsendlaterlistener
+mlistenerarraycount
+mlistenerarray
+alistener
+nsaddref
+mlistenerarray
+nsok
+nsimethodimp
+nsmsgsendlater
+removelistener
+nsimsgsendlaterlistener
+alistener
+print
+mlistenerarraycount
+mlistenerarray
+alistener
+nsrelease
+mlistenerarray
+mlistenerarray
+nsnull
+nsok
+nserrorinvalidarg
+nsresult
+nsmsgsendlater
+notifylistenersonstartsending
+pruint
+atotalmessagecount
+print
+mlistenerarraycount
+mlistenerarray
+nsnull
+mlistenerarray
+onstartsending
+atotalmessagecount
+nsok
+nsresult
+nsmsgsendlater
+notifylistenersonprogress
+pruint
+acurrentmessage
+pruint
+atotalmessage
+print
+mlistenerarraycount
+mlistenerarray
+nsnull
+mlistenerarray
+onprogress
+acurrentmessage
+atotalmessage
+nsok
+nsresult
+nsmsgsendlater
+notifylistenersonstatus
+prunichar
+amsg
+print
+mlistenerarraycount
+mlistenerarray
+nsnull
+mlistenerarray
+onstatus
+amsg
+nsok
+nsresult
+nsmsgsendlater
+notifylistenersonstopsending
+nsresult
+astatus
+prunichar
+amsg
+pruint
+atotaltried
+pruint
+asuccessful
+print
+mlistenerarraycount
+mlistenerarray
+nsnull
+mlistenerarray
+onstopsending
+astatus
+amsg
+atotaltried
+asuccessful
+nsok
+nsresult
+nsmsgsendlater
+getidentityfromkey
+akey
+nsimsgidentity
+aidentity
+nsensureargpointer
+aidentity
+nsresult
+rv
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsensuresuccess
+rv
+rv
+akey
+nscomptr
+nsisupportsarray
+identities
+nssucceeded
+accountmanager
+getallidentities
+getteraddrefs
+identities
+nscomptr
+nsimsgidentity
+lookupidentity
+pruint
+count
+identities
+count
+count
+pruint
+count
+rv
+identities
+queryelementat
+nsgetiid
+nsimsgidentity
+getteraddrefs
+lookupidentity
+nsfailed
+rv
+nsxpidlcstring
+key
+lookupidentity
+getkey
+gettercopies
+key
+key
+equals
+akey
+nsifaddref
+aidentity
+lookupidentity
+nsok
+nscomptr
+nsimsgaccount
+defaultaccount
+rv
+accountmanager
+getdefaultaccount
+getteraddrefs
+defaultaccount
+nsensuresuccess
+rv
+rv
+rv
+defaultaccount
+getdefaultidentity
+aidentity
+nsensuresuccess
+rv
+rv
+rv
\ No newline at end of file
@@ -0,0 +1,551 @@
+nsmsgsendreport
+msgcore
+nsimsgcompose
+nsmsgcomposestringbundle
+nsmsgcompcid
+nsmsgprompts
+nsreadableutils
+nsimplisupports
+nsmsgprocessreport
+nsimsgprocessreport
+nsmsgprocessreport
+nsmsgprocessreport
+reset
+nsmsgprocessreport
+nsmsgprocessreport
+nsimethodimp
+nsmsgprocessreport
+getproceeded
+prbool
+aproceeded
+nsensureargpointer
+aproceeded
+aproceeded
+mproceeded
+nsok
+nsimethodimp
+nsmsgprocessreport
+setproceeded
+prbool
+aproceeded
+mproceeded
+aproceeded
+nsok
+nsimethodimp
+nsmsgprocessreport
+geterror
+nsresult
+aerror
+nsensureargpointer
+aerror
+aerror
+merror
+nsok
+nsimethodimp
+nsmsgprocessreport
+seterror
+nsresult
+aerror
+merror
+aerror
+nsok
+nsimethodimp
+nsmsgprocessreport
+getmessage
+prunichar
+amessage
+nsensureargpointer
+amessage
+amessage
+tonewunicode
+mmessage
+nsok
+nsimethodimp
+nsmsgprocessreport
+setmessage
+prunichar
+amessage
+mmessage
+amessage
+nsok
+nsimethodimp
+nsmsgprocessreport
+reset
+mproceeded
+prfalse
+merror
+nsok
+mmessage
+assign
+nsliteralstring
+nsok
+nsimplisupports
+nsmsgsendreport
+nsimsgsendreport
+nsmsgsendreport
+nsmsgsendreport
+pruint
+sendlastprocess
+nsnewxpcom
+mprocessreport
+nsmsgprocessreport
+reset
+nsmsgsendreport
+nsmsgsendreport
+pruint
+sendlastprocess
+mprocessreport
+nsnull
+nsimethodimp
+nsmsgsendreport
+getcurrentprocess
+print
+acurrentprocess
+nsensureargpointer
+acurrentprocess
+acurrentprocess
+mcurrentprocess
+nsok
+nsimethodimp
+nsmsgsendreport
+setcurrentprocess
+print
+acurrentprocess
+acurrentprocess
+acurrentprocess
+sendlastprocess
+nserrorillegalvalue
+mcurrentprocess
+acurrentprocess
+mprocessreport
+mcurrentprocess
+mprocessreport
+mcurrentprocess
+setproceeded
+prtrue
+nsok
+nsimethodimp
+nsmsgsendreport
+getdeliverymode
+print
+adeliverymode
+nsensureargpointer
+adeliverymode
+adeliverymode
+mdeliverymode
+nsok
+nsimethodimp
+nsmsgsendreport
+setdeliverymode
+print
+adeliverymode
+mdeliverymode
+adeliverymode
+nsok
+nsimethodimp
+nsmsgsendreport
+reset
+pruint
+sendlastprocess
+mprocessreport
+mprocessreport
+reset
+mcurrentprocess
+mdeliverymode
+malreadydisplayreport
+prfalse
+nsok
+nsimethodimp
+nsmsgsendreport
+setproceeded
+print
+process
+prbool
+proceeded
+process
+processcurrent
+process
+sendlastprocess
+nserrorillegalvalue
+process
+processcurrent
+process
+mcurrentprocess
+mprocessreport
+process
+nserrornotinitialized
+mprocessreport
+process
+setproceeded
+proceeded
+nsimethodimp
+nsmsgsendreport
+seterror
+print
+process
+nsresult
+newerror
+prbool
+overwriteerror
+process
+processcurrent
+process
+sendlastprocess
+nserrorillegalvalue
+process
+processcurrent
+process
+mcurrentprocess
+mprocessreport
+process
+nserrornotinitialized
+nsresult
+currerror
+nsok
+mprocessreport
+process
+geterror
+currerror
+overwriteerror
+currerror
+nsok
+mprocessreport
+process
+seterror
+newerror
+nsok
+nsimethodimp
+nsmsgsendreport
+setmessage
+print
+process
+prunichar
+message
+prbool
+overwritemessage
+process
+processcurrent
+process
+sendlastprocess
+nserrorillegalvalue
+process
+processcurrent
+process
+mcurrentprocess
+mprocessreport
+process
+nserrornotinitialized
+nsxpidlstring
+currmessage
+mprocessreport
+process
+getmessage
+gettercopies
+currmessage
+overwritemessage
+currmessage
+currmessage
+mprocessreport
+process
+setmessage
+message
+nsok
+nsimethodimp
+nsmsgsendreport
+getprocessreport
+print
+process
+nsimsgprocessreport
+retval
+nsensureargpointer
+retval
+process
+processcurrent
+process
+sendlastprocess
+nserrorillegalvalue
+process
+processcurrent
+process
+mcurrentprocess
+retval
+mprocessreport
+process
+nsifaddref
+retval
+nsok
+nsimethodimp
+nsmsgsendreport
+displayreport
+nsiprompt
+prompt
+prbool
+showerroronly
+prbool
+dontshowreporttwice
+nsresult
+retval
+nsensureargpointer
+retval
+nsresult
+currerror
+nsok
+mprocessreport
+mcurrentprocess
+geterror
+currerror
+retval
+currerror
+dontshowreporttwice
+malreadydisplayreport
+nsok
+showerroronly
+nssucceeded
+currerror
+nsok
+nsxpidlstring
+currmessage
+mprocessreport
+mcurrentprocess
+getmessage
+gettercopies
+currmessage
+nscomptr
+nsimsgstringservice
+composebundle
+dogetservice
+nsmsgcomposestringservicecontractid
+composebundle
+malreadydisplayreport
+prtrue
+nsok
+nsxpidlstring
+dialogtitle
+nsxpidlstring
+dialogmessage
+nssucceeded
+currerror
+nsok
+currmessage
+isempty
+currerror
+nserrorsendfailed
+nserrorsendfailedbutnntpok
+nsmsgfailedcopyoperation
+nsmsgunabletosendlater
+nsmsgunabletosavedraft
+nsmsgunabletosavetemplate
+nserrormsgmultilingualsend
+malreadydisplayreport
+prtrue
+nsok
+nsautostring
+errormsg
+nsmsgbuilderrormessagebyid
+currerror
+errormsg
+errormsg
+isempty
+currmessage
+assign
+errormsg
+mdeliverymode
+nsimsgcompdelivermode
+now
+mdeliverymode
+nsimsgcompdelivermode
+sendunsent
+currerror
+nserrorbutdontshowalert
+malreadydisplayreport
+prtrue
+nsok
+composebundle
+getstringbyid
+nsmsgsenderrortitle
+gettercopies
+dialogtitle
+print
+prestrid
+nserrorsendfailed
+prbool
+asktogobacktocompose
+prfalse
+mcurrentprocess
+processbuildmessage
+prestrid
+nserrorsendfailed
+asktogobacktocompose
+prfalse
+processnntp
+prestrid
+nserrorsendfailed
+asktogobacktocompose
+prfalse
+processsmtp
+prbool
+nntpproceeded
+mprocessreport
+processnntp
+getproceeded
+nntpproceeded
+nntpproceeded
+prestrid
+nserrorsendfailedbutnntpok
+prestrid
+nserrorsendfailed
+asktogobacktocompose
+prfalse
+processcopy
+prestrid
+nsmsgfailedcopyoperation
+asktogobacktocompose
+mdeliverymode
+nsimsgcompdelivermode
+now
+processfcc
+prestrid
+nsmsgfailedcopyoperation
+asktogobacktocompose
+mdeliverymode
+nsimsgcompdelivermode
+now
+composebundle
+getstringbyid
+prestrid
+gettercopies
+dialogmessage
+asktogobacktocompose
+currmessage
+isempty
+composebundle
+getstringbyid
+nsmsggenericfailureexplanation
+gettercopies
+currmessage
+currmessage
+isempty
+nsautostring
+temp
+prunichar
+dialogmessage
+currmessage
+equals
+temp
+dialogmessage
+isempty
+temp
+append
+nsliteralstring
+temp
+append
+currmessage
+dialogmessage
+assign
+temp
+asktogobacktocompose
+prbool
+oopsgivemebackthecomposewindow
+prtrue
+nsxpidlstring
+text
+composebundle
+getstringbyid
+nsmsgasktocomebacktocompose
+gettercopies
+text
+nsautostring
+temp
+prunichar
+dialogmessage
+dialogmessage
+isempty
+temp
+append
+nsliteralstring
+temp
+append
+text
+dialogmessage
+assign
+temp
+nsmsgaskbooleanquestionbystring
+prompt
+dialogmessage
+oopsgivemebackthecomposewindow
+dialogtitle
+oopsgivemebackthecomposewindow
+retval
+nsok
+nsmsgdisplaymessagebystring
+prompt
+dialogmessage
+dialogtitle
+print
+titleid
+print
+prestrid
+mdeliverymode
+nsimsgcompdelivermode
+later
+titleid
+nsmsgsendlatererrortitle
+prestrid
+nsmsgunabletosendlater
+nsimsgcompdelivermode
+saveasdraft
+titleid
+nsmsgsavedrafttitle
+prestrid
+nsmsgunabletosavedraft
+nsimsgcompdelivermode
+saveastemplate
+titleid
+nsmsgsavetemplatetitle
+prestrid
+nsmsgunabletosavetemplate
+titleid
+nsmsgsenderrortitle
+prestrid
+nserrorsendfailed
+composebundle
+getstringbyid
+titleid
+gettercopies
+dialogtitle
+composebundle
+getstringbyid
+prestrid
+gettercopies
+dialogmessage
+currmessage
+isempty
+composebundle
+getstringbyid
+nsmsggenericfailureexplanation
+gettercopies
+currmessage
+currmessage
+isempty
+nsautostring
+temp
+prunichar
+dialogmessage
+dialogmessage
+isempty
+temp
+append
+nsliteralstring
+temp
+append
+currmessage
+dialogmessage
+assign
+temp
+nsmsgdisplaymessagebystring
+prompt
+dialogmessage
+dialogtitle
+malreadydisplayreport
+prtrue
+nsok
\ No newline at end of file
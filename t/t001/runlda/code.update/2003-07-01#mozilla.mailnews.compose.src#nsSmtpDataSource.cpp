@@ -0,0 +1,709 @@
+nsxpidlstring
+nsenumeratorutils
+nsrdfcid
+nsiservicemanager
+nscrt
+nsismtpservice
+nsismtpserver
+nssmtpdatasource
+nsmsgcompcid
+nsdefinecid
+krdfservicecid
+nsrdfservicecid
+define
+ncrdfsmtpservers
+nc
+smtpservers
+define
+ncrdfisdefault
+ncnamespaceuri
+isdefaultserver
+define
+ncrdfissessiondefault
+ncnamespaceuri
+issessiondefaultserver
+nsrefcnt
+nssmtpdatasource
+grefcount
+nscomptr
+nsirdfresource
+nssmtpdatasource
+kncchild
+nscomptr
+nsirdfresource
+nssmtpdatasource
+kncname
+nscomptr
+nsirdfresource
+nssmtpdatasource
+knckey
+nscomptr
+nsirdfresource
+nssmtpdatasource
+kncsmtpservers
+nscomptr
+nsirdfresource
+nssmtpdatasource
+kncisdefaultserver
+nscomptr
+nsirdfresource
+nssmtpdatasource
+kncissessiondefaultserver
+nscomptr
+nsirdfliteral
+nssmtpdatasource
+ktrueliteral
+nscomptr
+nsisupportsarray
+nssmtpdatasource
+mserverarcsout
+nscomptr
+nsisupportsarray
+nssmtpdatasource
+mserverrootarcsout
+nsimplisupports
+nssmtpdatasource
+nsirdfdatasource
+nssmtpdatasource
+nssmtpdatasource
+grefcount
+grefcount
+initglobalobjects
+nssmtpdatasource
+nssmtpdatasource
+nsresult
+nssmtpdatasource
+initglobalobjects
+nsresult
+rv
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+krdfservicecid
+rv
+nsfailed
+rv
+rv
+rdf
+getresource
+nsliteralcstring
+ncrdfchild
+getteraddrefs
+kncchild
+rdf
+getresource
+nsliteralcstring
+ncrdfname
+getteraddrefs
+kncname
+rdf
+getresource
+nsliteralcstring
+ncrdfkey
+getteraddrefs
+knckey
+rdf
+getresource
+nsliteralcstring
+ncrdfsmtpservers
+getteraddrefs
+kncsmtpservers
+rdf
+getresource
+nsliteralcstring
+ncrdfisdefault
+getteraddrefs
+kncisdefaultserver
+rdf
+getresource
+nsliteralcstring
+ncrdfissessiondefault
+getteraddrefs
+kncissessiondefaultserver
+nsautostring
+truestr
+nsliteralstring
+rdf
+getliteral
+truestr
+get
+getteraddrefs
+ktrueliteral
+rv
+nsnewisupportsarray
+getteraddrefs
+mserverarcsout
+nsfailed
+rv
+rv
+mserverarcsout
+appendelement
+kncname
+mserverarcsout
+appendelement
+knckey
+mserverarcsout
+appendelement
+kncisdefaultserver
+mserverarcsout
+appendelement
+kncissessiondefaultserver
+rv
+nsnewisupportsarray
+getteraddrefs
+mserverrootarcsout
+mserverrootarcsout
+appendelement
+kncchild
+mserverrootarcsout
+appendelement
+kncsmtpservers
+nsok
+nsimethodimp
+nssmtpdatasource
+geturi
+auri
+auri
+nscrt
+strdup
+nc
+smtpservers
+nsok
+nsimethodimp
+nssmtpdatasource
+getsource
+nsirdfresource
+aproperty
+nsirdfnode
+atarget
+prbool
+atruthvalue
+nsirdfresource
+aresult
+nserrornotimplemented
+nsimethodimp
+nssmtpdatasource
+getsources
+nsirdfresource
+aproperty
+nsirdfnode
+atarget
+prbool
+atruthvalue
+nsisimpleenumerator
+aresult
+nserrornotimplemented
+nsimethodimp
+nssmtpdatasource
+gettarget
+nsirdfresource
+asource
+nsirdfresource
+aproperty
+prbool
+atruthvalue
+nsirdfnode
+aresult
+nsresult
+rv
+nsxpidlcstring
+str
+aresult
+nsnull
+nscomptr
+nsismtpserver
+smtpserver
+rv
+asource
+getdelegate
+smtpserver
+nsgetiid
+nsismtpserver
+getteraddrefs
+smtpserver
+nsfailed
+rv
+nsrdfnovalue
+aproperty
+kncname
+get
+aproperty
+knckey
+get
+aproperty
+kncname
+get
+smtpserver
+getdisplayname
+gettercopies
+str
+aproperty
+knckey
+get
+smtpserver
+getkey
+gettercopies
+str
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+krdfservicecid
+rv
+nsensuresuccess
+rv
+rv
+nsautostring
+unicodestring
+unicodestring
+assignwithconversion
+str
+nscomptr
+nsirdfliteral
+literalresult
+rv
+rdf
+getliteral
+unicodestring
+get
+getteraddrefs
+literalresult
+nsensuresuccess
+rv
+rv
+aresult
+literalresult
+nsaddref
+aresult
+aproperty
+kncisdefaultserver
+get
+aproperty
+kncissessiondefaultserver
+get
+nscomptr
+nsismtpservice
+smtpservice
+dogetservice
+nssmtpservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+prbool
+truthvalue
+prfalse
+nscomptr
+nsismtpserver
+testserver
+aproperty
+kncisdefaultserver
+get
+printf
+checking
+smtpservice
+getdefaultserver
+getteraddrefs
+testserver
+aproperty
+kncissessiondefaultserver
+get
+printf
+checking
+session
+smtpservice
+getsessiondefaultserver
+getteraddrefs
+testserver
+testserver
+get
+smtpserver
+get
+truthvalue
+prtrue
+printf
+truthvalue
+true
+false
+truthvalue
+aresult
+ktrueliteral
+nsaddref
+aresult
+printf
+smtpdatasource
+unknown
+property
+nsok
+nsimethodimp
+nssmtpdatasource
+gettargets
+nsirdfresource
+asource
+nsirdfresource
+aproperty
+prbool
+atruthvalue
+nsisimpleenumerator
+aresult
+nsresult
+rv
+nsok
+asource
+kncsmtpservers
+get
+aproperty
+kncchild
+get
+nscomptr
+nsisupportsarray
+arcs
+getsmtpservertargets
+getteraddrefs
+arcs
+rv
+nsnewarrayenumerator
+aresult
+arcs
+nsensuresuccess
+rv
+rv
+rv
+nsnewemptyenumerator
+aresult
+nsok
+nsresult
+nssmtpdatasource
+getsmtpservertargets
+nsisupportsarray
+aresultarray
+nsresult
+rv
+nscomptr
+nsismtpservice
+smtpservice
+dogetservice
+nssmtpservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+krdfservicecid
+rv
+nscomptr
+nsisupportsarray
+smtpservers
+rv
+smtpservice
+getsmtpservers
+getteraddrefs
+smtpservers
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupportsarray
+smtpserverresources
+rv
+nsnewisupportsarray
+getteraddrefs
+smtpserverresources
+pruint
+count
+rv
+smtpservers
+count
+count
+nsensuresuccess
+rv
+rv
+pruint
+count
+nscomptr
+nsismtpserver
+smtpserver
+rv
+smtpservers
+queryelementat
+nsgetiid
+nsismtpserver
+getteraddrefs
+smtpserver
+nsfailed
+rv
+nsxpidlcstring
+smtpserveruri
+rv
+smtpserver
+getserveruri
+gettercopies
+smtpserveruri
+nsfailed
+rv
+nscomptr
+nsirdfresource
+smtpserverresource
+rv
+rdf
+getresource
+smtpserveruri
+getteraddrefs
+smtpserverresource
+nsfailed
+rv
+rv
+smtpserverresources
+appendelement
+smtpserverresource
+aresultarray
+smtpserverresources
+nsaddref
+aresultarray
+nsok
+nsimethodimp
+nssmtpdatasource
+assert
+nsirdfresource
+asource
+nsirdfresource
+aproperty
+nsirdfnode
+atarget
+prbool
+atruthvalue
+nserrornotimplemented
+nsimethodimp
+nssmtpdatasource
+unassert
+nsirdfresource
+asource
+nsirdfresource
+aproperty
+nsirdfnode
+atarget
+nserrornotimplemented
+nsimethodimp
+nssmtpdatasource
+change
+nsirdfresource
+asource
+nsirdfresource
+aproperty
+nsirdfnode
+aoldtarget
+nsirdfnode
+anewtarget
+nserrornotimplemented
+nsimethodimp
+nssmtpdatasource
+move
+nsirdfresource
+aoldsource
+nsirdfresource
+anewsource
+nsirdfresource
+aproperty
+nsirdfnode
+atarget
+nserrornotimplemented
+nsimethodimp
+nssmtpdatasource
+hasassertion
+nsirdfresource
+asource
+nsirdfresource
+aproperty
+nsirdfnode
+atarget
+prbool
+atruthvalue
+prbool
+aresult
+nserrornotimplemented
+nsimethodimp
+nssmtpdatasource
+addobserver
+nsirdfobserver
+aobserver
+nsprecondition
+aobserver
+nsnull
+ptr
+aobserver
+nserrornullpointer
+mobservers
+nsresult
+rv
+rv
+nsnewisupportsarray
+getteraddrefs
+mobservers
+nsfailed
+rv
+rv
+mobservers
+appendelement
+aobserver
+nsok
+nsimethodimp
+nssmtpdatasource
+removeobserver
+nsirdfobserver
+aobserver
+nsprecondition
+aobserver
+nsnull
+ptr
+aobserver
+nserrornullpointer
+mobservers
+nsok
+mobservers
+removeelement
+aobserver
+nsok
+nsimethodimp
+nssmtpdatasource
+hasarcin
+nsirdfnode
+anode
+nsirdfresource
+aarc
+prbool
+result
+result
+prfalse
+nsok
+nsimethodimp
+nssmtpdatasource
+hasarcout
+nsirdfresource
+asource
+nsirdfresource
+aarc
+prbool
+result
+nsresult
+rv
+asource
+kncsmtpservers
+get
+result
+mserverrootarcsout
+indexof
+aarc
+nscomptr
+nsismtpserver
+smtpserver
+rv
+asource
+getdelegate
+smtpserver
+nsgetiid
+nsismtpserver
+getteraddrefs
+smtpserver
+nssucceeded
+rv
+result
+mserverarcsout
+indexof
+aarc
+result
+prfalse
+nsok
+nsimethodimp
+nssmtpdatasource
+arclabelsin
+nsirdfnode
+anode
+nsisimpleenumerator
+aresult
+nserrornotimplemented
+nsimethodimp
+nssmtpdatasource
+arclabelsout
+nsirdfresource
+asource
+nsisimpleenumerator
+aresult
+nsresult
+rv
+asource
+kncsmtpservers
+get
+rv
+nsnewarrayenumerator
+aresult
+mserverrootarcsout
+nscomptr
+nsismtpserver
+smtpserver
+rv
+asource
+getdelegate
+smtpserver
+nsgetiid
+nsismtpserver
+getteraddrefs
+smtpserver
+nssucceeded
+rv
+rv
+nsnewarrayenumerator
+aresult
+mserverarcsout
+aresult
+rv
+nsnewemptyenumerator
+aresult
+rv
+nsimethodimp
+nssmtpdatasource
+getallresources
+nsisimpleenumerator
+aresult
+nserrornotimplemented
+nsimethodimp
+nssmtpdatasource
+iscommandenabled
+nsisupportsarray
+asources
+nsirdfresource
+acommand
+nsisupportsarray
+aarguments
+prbool
+aresult
+nserrornotimplemented
+nsimethodimp
+nssmtpdatasource
+docommand
+nsisupportsarray
+asources
+nsirdfresource
+acommand
+nsisupportsarray
+aarguments
+nserrornotimplemented
+nsimethodimp
+nssmtpdatasource
+getallcmds
+nsirdfresource
+asource
+nsisimpleenumerator
+aresult
+nserrornotimplemented
+nsimethodimp
+nssmtpdatasource
+beginupdatebatch
+nsok
+nsimethodimp
+nssmtpdatasource
+endupdatebatch
+nsok
\ No newline at end of file
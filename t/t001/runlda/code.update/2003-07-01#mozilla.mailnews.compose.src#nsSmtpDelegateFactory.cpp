@@ -0,0 +1,105 @@
+nssmtpdelegatefactory
+nscomptr
+nsxpidlstring
+nsstring
+nsiservicemanager
+nsiurl
+nsnetcid
+nsirdfresource
+nsismtpserver
+nsismtpservice
+nsmsgcompcid
+nsreadableutils
+nsescape
+prmem
+nsimplisupports
+nssmtpdelegatefactory
+nsirdfdelegatefactory
+nssmtpdelegatefactory
+nssmtpdelegatefactory
+nssmtpdelegatefactory
+nssmtpdelegatefactory
+nsimethodimp
+nssmtpdelegatefactory
+createdelegate
+nsirdfresource
+aouter
+akey
+nsiid
+aiid
+aresult
+nsresult
+rv
+uri
+aouter
+getvalueconst
+uri
+nscomptr
+nsiurl
+url
+docreateinstance
+nsstandardurlcontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+url
+setspec
+nsdependentcstring
+uri
+nscautostring
+hostname
+nscautostring
+userpass
+rv
+url
+getuserpass
+userpass
+nsensuresuccess
+rv
+rv
+url
+getasciihost
+hostname
+nsensuresuccess
+rv
+rv
+nscomptr
+nsismtpservice
+smtpservice
+dogetservice
+nssmtpservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+unescapeduserpass
+tonewcstring
+userpass
+unescapeduserpass
+nserroroutofmemory
+nsunescape
+unescapeduserpass
+nscomptr
+nsismtpserver
+smtpserver
+rv
+smtpservice
+findserver
+unescapeduserpass
+hostname
+get
+getteraddrefs
+smtpserver
+prfreeif
+unescapeduserpass
+nsfailed
+rv
+rv
+smtpserver
+nserrorfailure
+smtpserver
+queryinterface
+aiid
+aresult nsresult
\ No newline at end of file
@@ -0,0 +1,2628 @@
+ifdef
+mozlogging
+define
+forceprlog
+endif
+msgcore
+nssmtpprotocol
+nscore
+nsistreamlistener
+nsiinputstream
+nsioutputstream
+nsisockettransport
+nsimsgheaderparser
+nsfilestream
+nsimsgmailnewsurl
+nsmsgbasecid
+nsmsgcompcid
+nsiprompt
+nsiauthprompt
+nsstring
+nstextformatter
+nsimsgidentity
+nsismtpserver
+nsmsgcomposestringbundle
+prtime
+prlog
+prerror
+prprf
+prmem
+plbase
+nsescape
+nsmsgutils
+nsipipe
+nsmsgsimulateerror
+nsnetutil
+nsiprefservice
+nsisignatureverifier
+nsisslsocketcontrol
+ifndef
+xpunix
+stdarg
+endif
+prlogmoduleinfo
+smtplogmodule
+nsnull
+define
+outputbuffersize
+nsresult
+nsexplainerrordetails
+nsismtpurl
+asmtpurl
+code
+nsensurearg
+asmtpurl
+nsresult
+rv
+nsok
+valist
+args
+nscomptr
+nsiprompt
+dialog
+asmtpurl
+getprompt
+getteraddrefs
+dialog
+nsensuretrue
+dialog
+nserrorfailure
+prunichar
+msg
+nsxpidlstring
+emsg
+nscomptr
+nsimsgstringservice
+smtpbundle
+dogetservice
+nsmsgsmtpstringservicecontractid
+vastart
+args
+code
+code
+nserrorsmtpservererror
+nserrortcpreaderror
+nserrorsendingfromcommand
+nserrorsendingrcptcommand
+nserrorsendingdatacommand
+nserrorsendingmessage
+smtpbundle
+getstringbyid
+code
+gettercopies
+emsg
+msg
+nstextformatter
+vsmprintf
+emsg
+args
+smtpbundle
+getstringbyid
+nserrorcommunicationserror
+gettercopies
+emsg
+msg
+nstextformatter
+smprintf
+emsg
+code
+msg
+rv
+dialog
+alert
+nsnull
+msg
+nstextformatter
+smprintffree
+msg
+vaend
+args
+rv
+esmtpvalueencode
+addr
+buffer
+prmalloc
+bp
+buffer
+bpend
+buffer
+len
+buffer
+bp
+addr
+addr
+buffer
+len
+plstrlen
+addr
+len
+bp
+bpend
+addr
+addr
+xe
+addr
+addr
+bp
+addr
+prsnprintf
+bp
+bpend
+bp
+addr
+bp
+plstrlen
+bp
+bp
+buffer
+nsimpladdrefinherited
+nssmtpprotocol
+nsmsgasyncwriteprotocol
+nsimplreleaseinherited
+nssmtpprotocol
+nsmsgasyncwriteprotocol
+nsinterfacemapbegin
+nssmtpprotocol
+nsinterfacemapentry
+nsimsglogonredirectionrequester
+nsinterfacemapendinheriting
+nsmsgasyncwriteprotocol
+nssmtpprotocol
+nssmtpprotocol
+nsiuri
+aurl
+nsmsgasyncwriteprotocol
+aurl
+initialize
+aurl
+nssmtpprotocol
+nssmtpprotocol
+prfree
+maddresscopy
+prfree
+mverifyaddress
+prfree
+mdatabuf
+mlinestreambuffer
+nssmtpprotocol
+initialize
+nsiuri
+aurl
+nsprecondition
+aurl
+invalid
+url
+passed
+into
+smtp
+protocol
+nsresult
+rv
+nsok
+mflags
+morigauthflags
+mprefauthmethod
+prefauthnone
+musernameprompted
+prfalse
+mpreftryssl
+prefssltry
+mtlsinitiated
+prfalse
+murlerrorstate
+nserrorfailure
+smtplogmodule
+smtplogmodule
+prnewlogmodule
+smtp
+aurl
+mrunningurl
+doqueryinterface
+aurl
+msmtpbundle
+msmtpbundle
+dogetservice
+nsmsgsmtpstringservicecontractid
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+aurl
+mailnewsurl
+mailnewsurl
+getstatusfeedback
+getteraddrefs
+mstatusfeedback
+mdatabuf
+prmalloc
+outputbuffersize
+mdatabufsize
+outputbuffersize
+mnextstate
+smtpstartconnect
+mnextstateafterresponse
+smtpstartconnect
+mresponsecode
+mpreviousresponsecode
+mcontinuationresponse
+mtlsenabled
+prfalse
+maddresscopy
+nsnull
+maddresses
+nsnull
+maddressesleft
+nsnull
+mverifyaddress
+nsnull
+ifdef
+unreadycode
+mtotalamountwritten
+mtotalmessagesize
+endif
+moriginalcontentlength
+mtotalamountread
+mlinestreambuffer
+nsmsglinestreambuffer
+outputbuffersize
+prtrue
+nscomptr
+nsismtpserver
+smtpserver
+mrunningurl
+getsmtpserver
+getteraddrefs
+smtpserver
+smtpserver
+smtpserver
+getauthmethod
+mprefauthmethod
+smtpserver
+gettryssl
+mpreftryssl
+rv
+requestoverrideinfo
+smtpserver
+nssucceeded
+rv
+testflag
+smtpwaitforredirection
+defined
+prlogging
+nscautostring
+hostname
+aurl
+getasciihost
+hostname
+prlog
+smtplogmodule
+prlogalways
+smtp
+connecting
+to
+hostname
+get
+endif
+nscomptr
+nsiinterfacerequestor
+callbacks
+nscomptr
+nsismtpurl
+smtpurl
+doqueryinterface
+aurl
+smtpurl
+smtpurl
+getnotificationcallbacks
+getteraddrefs
+callbacks
+mpreftryssl
+prefsslnever
+rv
+opennetworksocket
+aurl
+starttls
+callbacks
+nsfailed
+rv
+mpreftryssl
+prefssltry
+mpreftryssl
+prefsslnever
+rv
+opennetworksocket
+aurl
+nsnull
+callbacks
+rv
+opennetworksocket
+aurl
+nsnull
+callbacks
+nsfailed
+rv
+nssmtpprotocol
+getuserdomainname
+nsresult
+rv
+nsprecondition
+mrunningurl
+we
+must
+be
+running
+url
+in
+order
+to
+get
+the
+user
+domain
+mrunningurl
+nscomptr
+nsimsgidentity
+senderidentity
+rv
+mrunningurl
+getsenderidentity
+getteraddrefs
+senderidentity
+nsfailed
+rv
+senderidentity
+nsnull
+rv
+senderidentity
+getemail
+gettercopies
+mmailaddr
+nsfailed
+rv
+mmailaddr
+nsnull
+atsignmarker
+nsnull
+atsignmarker
+plstrchr
+mmailaddr
+atsignmarker
+atsignmarker
+mmailaddr
+nsnull
+nsimethodimp
+nssmtpprotocol
+onstoprequest
+nsirequest
+request
+nsisupports
+ctxt
+nsresult
+astatus
+astatus
+nsok
+mnextstate
+smtpfree
+prlog
+smtplogmodule
+prlogalways
+smtp
+connection
+dropped
+after
+ld
+total
+bytes
+read
+mtotalamountread
+nsmsgasyncwriteprotocol
+onstoprequest
+nsnull
+ctxt
+nserrornetinterrupt
+nsmsgasyncwriteprotocol
+onstoprequest
+nsnull
+ctxt
+astatus
+nsmsgasyncwriteprotocol
+closesocket
+nssmtpprotocol
+updatestatus
+print
+astatusid
+mstatusfeedback
+nsxpidlstring
+msg
+msmtpbundle
+getstringbyid
+astatusid
+gettercopies
+msg
+updatestatuswithstring
+msg
+nssmtpprotocol
+updatestatuswithstring
+prunichar
+astatusstring
+mstatusfeedback
+astatusstring
+mstatusfeedback
+showstatusstring
+astatusstring
+print
+nssmtpprotocol
+smtpresponse
+nsiinputstream
+inputstream
+pruint
+length
+line
+nsnull
+contchar
+pruint
+ln
+prbool
+pauseformoredata
+prfalse
+mlinestreambuffer
+line
+mlinestreambuffer
+readnextline
+inputstream
+ln
+pauseformoredata
+pauseformoredata
+line
+setflag
+smtppauseforread
+prfree
+line
+ln
+mtotalamountread
+ln
+prlog
+smtplogmodule
+prlogalways
+smtp
+response
+line
+contchar
+sscanf
+line
+mresponsecode
+contchar
+mcontinuationresponse
+contchar
+mcontinuationresponse
+mresponsecode
+plstrlen
+line
+mresponsetext
+line
+mcontinuationresponse
+mresponsecode
+contchar
+mcontinuationresponse
+mresponsetext
+charat
+mresponsetext
+length
+mresponsetext
+plstrlen
+line
+mresponsetext
+line
+mresponsecode
+mresponsetext
+length
+mtlsinitiated
+mnextstateafterresponse
+smtpextnloginresponse
+mcontinuationresponse
+mnextstate
+mnextstateafterresponse
+clearflag
+smtppauseforread
+prfree
+line
+print
+nssmtpprotocol
+loginresponse
+nsiinputstream
+inputstream
+pruint
+length
+print
+status
+nscautostring
+buffer
+helo
+mresponsecode
+murlerrorstate
+nserrorcouldnotlogintosmtpserver
+nserrorcouldnotlogintosmtpserver
+buffer
+getuserdomainname
+buffer
+crlf
+nscomptr
+nsiuri
+url
+doqueryinterface
+mrunningurl
+status
+senddata
+url
+buffer
+get
+mnextstate
+smtpresponse
+mnextstateafterresponse
+smtpsendheloresponse
+setflag
+smtppauseforread
+status
+print
+nssmtpprotocol
+extensionloginresponse
+nsiinputstream
+inputstream
+pruint
+length
+print
+status
+nscautostring
+buffer
+ehlo
+mresponsecode
+murlerrorstate
+nserrorcouldnotlogintosmtpserver
+nserrorcouldnotlogintosmtpserver
+buffer
+getuserdomainname
+buffer
+crlf
+nscomptr
+nsiuri
+url
+doqueryinterface
+mrunningurl
+status
+senddata
+url
+buffer
+get
+mnextstate
+smtpresponse
+mnextstateafterresponse
+smtpsendehloresponse
+setflag
+smtppauseforread
+status
+print
+nssmtpprotocol
+sendheloresponse
+nsiinputstream
+inputstream
+pruint
+length
+print
+status
+nscautostring
+buffer
+nsresult
+rv
+nsxpidlcstring
+emailaddress
+nscomptr
+nsimsgidentity
+senderidentity
+rv
+mrunningurl
+getsenderidentity
+getteraddrefs
+senderidentity
+nsfailed
+rv
+senderidentity
+murlerrorstate
+nserrorcouldnotgetusersmailaddress
+nserrorcouldnotgetusersmailaddress
+senderidentity
+getemail
+gettercopies
+emailaddress
+emailaddress
+checksimulatederror
+simulatedsenderror
+murlerrorstate
+nserrorcouldnotgetusersmailaddress
+nserrorcouldnotgetusersmailaddress
+mverifyaddress
+buffer
+vrfy
+buffer
+mverifyaddress
+buffer
+crlf
+nscomptr
+nsimsgheaderparser
+parser
+dogetservice
+nsmailnewsmimeheaderparsercontractid
+fulladdress
+nsnull
+parser
+parser
+makefulladdress
+nsnull
+nsnull
+emailaddress
+fulladdress
+ifdef
+unreadycode
+ceurls
+msgpane
+msgrequestforreturnreceipt
+ceurls
+msgpane
+testflag
+smtpehlodsnenabled
+prsnprintf
+buffer
+buffer
+mail
+from
+ret
+full
+envid
+nsjt
+crlf
+fulladdress
+fealert
+cewindowid
+xpgetstring
+xpreturnreceiptnotsupport
+prsnprintf
+buffer
+buffer
+mail
+from
+crlf
+fulladdress
+msgsendingmdninprogress
+ceurls
+msgpane
+prsnprintf
+buffer
+buffer
+mail
+from
+crlf
+prsnprintf
+buffer
+buffer
+mail
+from
+crlf
+fulladdress
+endif
+buffer
+mail
+from
+buffer
+fulladdress
+buffer
+crlf
+prfreeif
+fulladdress
+nscomptr
+nsiuri
+url
+doqueryinterface
+mrunningurl
+status
+senddata
+url
+buffer
+get
+mnextstate
+smtpresponse
+mverifyaddress
+mnextstateafterresponse
+smtpsendvrfyresponse
+mnextstateafterresponse
+smtpsendmailresponse
+setflag
+smtppauseforread
+status
+print
+nssmtpprotocol
+sendehloresponse
+nsiinputstream
+inputstream
+pruint
+length
+print
+status
+nscautostring
+buffer
+nscomptr
+nsiuri
+url
+doqueryinterface
+mrunningurl
+mresponsecode
+mresponsecode
+mresponsecode
+mpreftryssl
+prefsslalways
+mnextstate
+smtperrordone
+murlerrorstate
+nserrorcouldnotlogintosmtpserver
+nserrorcouldnotlogintosmtpserver
+buffer
+helo
+buffer
+getuserdomainname
+buffer
+crlf
+status
+senddata
+url
+buffer
+get
+ifdef
+debug
+nsresult
+rv
+endif
+nsexplainerrordetails
+mrunningurl
+nserrorsmtpservererror
+mresponsetext
+get
+nsassertion
+nssucceeded
+rv
+failed
+to
+explain
+smtp
+error
+murlerrorstate
+nserrorbutdontshowalert
+nserrorcouldnotlogintosmtpserver
+mnextstate
+smtpresponse
+mnextstateafterresponse
+smtpsendheloresponse
+setflag
+smtppauseforread
+status
+print
+responselength
+mresponsetext
+length
+print
+startpos
+print
+endpos
+endpos
+mresponsetext
+findchar
+startpos
+nscautostring
+responseline
+responseline
+assign
+substring
+mresponsetext
+startpos
+endpos
+endpos
+responselength
+startpos
+responseline
+compresswhitespace
+responseline
+compare
+starttls
+prtrue
+setflag
+smtpehlostarttlsenabled
+responseline
+compare
+dsn
+prtrue
+setflag
+smtpehlodsnenabled
+responseline
+compare
+auth
+prtrue
+mresponsetext
+find
+plain
+prtrue
+setflag
+smtpauthplainenabled
+mresponsetext
+find
+login
+prtrue
+setflag
+smtpauthloginenabled
+mresponsetext
+find
+external
+prtrue
+setflag
+smtpauthexternalenabled
+mresponsetext
+find
+cram
+md
+prtrue
+nsresult
+rv
+nscomptr
+nsisignatureverifier
+verifier
+dogetservice
+signatureverifiercontractid
+rv
+nssucceeded
+rv
+setflag
+smtpauthcrammdenabled
+backupauthflags
+startpos
+endpos
+endpos
+mnextstate
+smtpauthprocessstate
+status
+print
+nssmtpprotocol
+sendtlsresponse
+nsresult
+rv
+nsok
+mresponsecode
+nscomptr
+nsisupports
+secinfo
+nscomptr
+nsisockettransport
+strans
+doqueryinterface
+mtransport
+rv
+nsfailed
+rv
+rv
+rv
+strans
+getsecurityinfo
+getteraddrefs
+secinfo
+nssucceeded
+rv
+secinfo
+nscomptr
+nsisslsocketcontrol
+sslcontrol
+doqueryinterface
+secinfo
+rv
+nssucceeded
+rv
+sslcontrol
+rv
+sslcontrol
+starttls
+nsfailed
+rv
+rv
+mnextstate
+smtpextnloginresponse
+mnextstateafterresponse
+smtpextnloginresponse
+mtlsenabled
+prtrue
+mflags
+rv
+print
+nssmtpprotocol
+processauth
+print
+status
+nscautostring
+buffer
+nscomptr
+nsiuri
+url
+doqueryinterface
+mrunningurl
+mtlsenabled
+testflag
+smtpehlostarttlsenabled
+mpreftryssl
+prefsslnever
+buffer
+starttls
+buffer
+crlf
+status
+senddata
+url
+buffer
+get
+mflags
+mtlsinitiated
+prtrue
+mnextstate
+smtpresponse
+mnextstateafterresponse
+smtptlsresponse
+setflag
+smtppauseforread
+status
+mpreftryssl
+prefsslalways
+mnextstate
+smtperrordone
+murlerrorstate
+nserrorcouldnotlogintosmtpserver
+nserrorcouldnotlogintosmtpserver
+testflag
+smtpauthplainenabled
+testflag
+smtpauthcrammdenabled
+testflag
+smtpauthloginenabled
+mprefauthmethod
+prefauthany
+mnextstate
+smtpsendauthloginusername
+mnextstateafterresponse
+smtpauthloginresponse
+mnextstate
+smtpsendheloresponse
+nsok
+testflag
+smtpauthexternalenabled
+buffer
+auth
+external
+buffer
+crlf
+senddata
+url
+buffer
+get
+mnextstate
+smtpresponse
+mnextstateafterresponse
+smtpauthexternalresponse
+setflag
+smtppauseforread
+nsok
+testflag
+smtpauthloginenabled
+testflag
+smtpauthplainenabled
+testflag
+smtpauthcrammdenabled
+mprefauthmethod
+prefauthany
+mnextstate
+smtpsendauthloginusername
+mnextstateafterresponse
+smtpauthloginresponse
+mnextstate
+smtpsendheloresponse
+nsok
+nssmtpprotocol
+backupauthflags
+morigauthflags
+mflags
+smtpauthanyenabled
+nssmtpprotocol
+restoreauthflags
+mflags
+morigauthflags
+print
+nssmtpprotocol
+authloginresponse
+nsiinputstream
+stream
+pruint
+length
+print
+status
+nscomptr
+nsismtpserver
+smtpserver
+mrunningurl
+getsmtpserver
+getteraddrefs
+smtpserver
+mresponsecode
+mnextstate
+smtpsendheloresponse
+mnextstate
+smtpsendauthloginpassword
+smtpserver
+testflag
+smtpauthdigestmdenabled
+clearflag
+smtpauthdigestmdenabled
+testflag
+smtpauthcrammdenabled
+clearflag
+smtpauthcrammdenabled
+testflag
+smtpauthplainenabled
+clearflag
+smtpauthplainenabled
+testflag
+smtpauthloginenabled
+clearflag
+smtpauthloginenabled
+testflag
+smtpauthanyenabled
+mlogoncookie
+isempty
+smtpserver
+forgetpassword
+musernameprompted
+smtpserver
+setusername
+restoreauthflags
+mnextstate
+smtpsendauthloginusername
+status
+nserrorsmtppasswordundefined
+status
+print
+nssmtpprotocol
+authloginusername
+buffer
+nsresult
+rv
+print
+status
+nsxpidlcstring
+username
+basestr
+nsnull
+nsxpidlcstring
+origpassword
+nscautostring
+password
+nscomptr
+nsismtpserver
+smtpserver
+rv
+mrunningurl
+getsmtpserver
+getteraddrefs
+smtpserver
+nsfailed
+rv
+nserrorfailure
+rv
+smtpserver
+getusername
+gettercopies
+username
+username
+isempty
+rv
+getusernamepassword
+gettercopies
+username
+gettercopies
+origpassword
+musernameprompted
+prtrue
+password
+assign
+origpassword
+username
+isempty
+password
+isempty
+nserrorsmtppasswordundefined
+testflag
+smtpuseloginredirection
+rv
+getpassword
+gettercopies
+origpassword
+password
+assign
+origpassword
+password
+isempty
+nserrorsmtppasswordundefined
+password
+assign
+mlogoncookie
+testflag
+smtpauthplainenabled
+plainstring
+len
+memset
+plainstring
+prsnprintf
+plainstring
+username
+len
+plstrlen
+username
+len
+prsnprintf
+plainstring
+len
+len
+password
+get
+len
+password
+length
+basestr
+plbaseencode
+plainstring
+len
+nsnull
+basestr
+plbaseencode
+username
+strlen
+username
+nsnull
+basestr
+testflag
+smtpauthcrammdenabled
+prsnprintf
+buffer
+buffer
+auth
+cram
+md
+crlf
+testflag
+smtpauthplainenabled
+prsnprintf
+buffer
+buffer
+auth
+plain
+crlf
+basestr
+testflag
+smtpauthloginenabled
+prsnprintf
+buffer
+buffer
+auth
+login
+crlf
+basestr
+nserrorcommunicationserror
+nscomptr
+nsiuri
+url
+doqueryinterface
+mrunningurl
+status
+senddata
+url
+buffer
+prtrue
+mnextstate
+smtpresponse
+mnextstateafterresponse
+smtpauthloginresponse
+setflag
+smtppauseforread
+nscrt
+free
+basestr
+status
+print
+nssmtpprotocol
+authloginpassword
+print
+status
+nsresult
+rv
+nsxpidlcstring
+origpassword
+nscautostring
+password
+testflag
+smtpuseloginredirection
+rv
+getpassword
+gettercopies
+origpassword
+print
+passwordlength
+strlen
+origpassword
+origpassword
+passwordlength
+nserrorsmtppasswordundefined
+password
+assign
+origpassword
+password
+assign
+mlogoncookie
+password
+isempty
+buffer
+testflag
+smtpauthcrammdenabled
+digest
+digestlength
+decodedchallenge
+plbasedecode
+mresponsetext
+get
+mresponsetext
+length
+nsnull
+decodedchallenge
+rv
+msgcrammd
+decodedchallenge
+strlen
+decodedchallenge
+password
+get
+password
+length
+digest
+rv
+nserrorfailure
+prfree
+decodedchallenge
+nssucceeded
+rv
+digest
+nscautostring
+encodeddigest
+hexval
+pruint
+prsnprintf
+hexval
+xff
+digest
+encodeddigest
+append
+hexval
+nscomptr
+nsismtpserver
+smtpserver
+rv
+mrunningurl
+getsmtpserver
+getteraddrefs
+smtpserver
+nsfailed
+rv
+nserrorfailure
+nsxpidlcstring
+username
+rv
+smtpserver
+getusername
+gettercopies
+username
+prsnprintf
+buffer
+buffer
+username
+get
+encodeddigest
+get
+basestr
+plbaseencode
+buffer
+strlen
+buffer
+nsnull
+prsnprintf
+buffer
+buffer
+crlf
+basestr
+prfree
+basestr
+nsfailed
+rv
+clearflag
+smtpauthcrammdenabled
+basestr
+plbaseencode
+password
+get
+password
+length
+nsnull
+prsnprintf
+buffer
+buffer
+crlf
+basestr
+nscrt
+free
+basestr
+nscomptr
+nsiuri
+url
+doqueryinterface
+mrunningurl
+status
+senddata
+url
+buffer
+prtrue
+mnextstate
+smtpresponse
+mnextstateafterresponse
+smtpauthloginresponse
+setflag
+smtppauseforread
+status
+print
+nssmtpprotocol
+sendverifyresponse
+print
+status
+buffer
+mresponsecode
+mresponsecode
+nsuserverifiedbysmtp
+nsusernotverifiedbysmtp
+prassert
+endif
+print
+nssmtpprotocol
+sendmailresponse
+print
+status
+nscautostring
+buffer
+mresponsecode
+checksimulatederror
+simulatedsenderror
+nsresult
+rv
+nsexplainerrordetails
+mrunningurl
+nserrorsendingfromcommand
+mresponsetext
+get
+nsassertion
+nssucceeded
+rv
+failed
+to
+explain
+smtp
+error
+murlerrorstate
+nserrorbutdontshowalert
+nserrorsendingfromcommand
+ifdef
+unreadycode
+testflag
+smtpehlodsnenabled
+ceurls
+msgpane
+msgrequestforreturnreceipt
+ceurls
+msgpane
+testflag
+smtpehlodsnenabled
+prfalse
+endif
+encodedaddress
+esmtpvalueencode
+maddresses
+encodedaddress
+buffer
+rcpt
+to
+buffer
+maddresses
+buffer
+notify
+success
+failure
+orcpt
+rfc
+buffer
+encodedaddress
+buffer
+crlf
+prfreeif
+encodedaddress
+murlerrorstate
+nserroroutofmemory
+nserroroutofmemory
+buffer
+rcpt
+to
+buffer
+maddresses
+buffer
+buffer
+crlf
+maddresses
+plstrlen
+maddresses
+maddressesleft
+nscomptr
+nsiuri
+url
+doqueryinterface
+mrunningurl
+status
+senddata
+url
+buffer
+get
+mnextstate
+smtpresponse
+mnextstateafterresponse
+smtpsendrcptresponse
+setflag
+smtppauseforread
+status
+print
+nssmtpprotocol
+sendrecipientresponse
+print
+status
+nscautostring
+buffer
+mresponsecode
+mresponsecode
+nsresult
+rv
+nsexplainerrordetails
+mrunningurl
+nserrorsendingrcptcommand
+mresponsetext
+get
+nsassertion
+nssucceeded
+rv
+failed
+to
+explain
+smtp
+error
+murlerrorstate
+nserrorbutdontshowalert
+nserrorsendingrcptcommand
+maddressesleft
+mresponsecode
+mnextstate
+smtpsendmailresponse
+buffer
+data
+buffer
+crlf
+nscomptr
+nsiuri
+url
+doqueryinterface
+mrunningurl
+status
+senddata
+url
+buffer
+get
+mnextstate
+smtpresponse
+mnextstateafterresponse
+smtpsenddataresponse
+setflag
+smtppauseforread
+status
+print
+nssmtpprotocol
+senddata
+nsiuri
+url
+databuffer
+prbool
+asuppresslogging
+databuffer
+asuppresslogging
+prlog
+smtplogmodule
+prlogalways
+smtp
+send
+databuffer
+prlog
+smtplogmodule
+prlogalways
+logging
+suppressed
+command
+it
+probably
+contained
+authentication
+information
+nsmsgasyncwriteprotocol
+senddata
+url
+databuffer
+print
+nssmtpprotocol
+senddataresponse
+print
+status
+command
+mresponsecode
+mresponsecode
+nsresult
+rv
+nsexplainerrordetails
+mrunningurl
+nserrorsendingdatacommand
+mresponsetext
+get
+nsassertion
+nssucceeded
+rv
+failed
+to
+explain
+smtp
+error
+murlerrorstate
+nserrorbutdontshowalert
+nserrorsendingdatacommand
+ifdef
+unreadycode
+ifdef
+xpunix
+feusersrealmailaddress
+realname
+prbool
+suppresssenderheader
+prfalse
+prefgetboolpref
+mail
+suppresssenderheader
+suppresssenderheader
+suppresssenderheader
+realname
+feusersrealmailaddress
+realname
+msgmakefulladdress
+realname
+realname
+murlerrorstate
+nserrorcouldnotgetuid
+nserrorcouldnotgetuid
+realname
+buffer
+prsnprintf
+buffer
+buffer
+sender
+crlf
+realname
+nsmsgsacat
+command
+buffer
+command
+murlerrorstate
+nserroroutofmemory
+nserroroutofmemory
+status
+netblockingwrite
+cesock
+command
+plstrlen
+command
+status
+endif
+endif
+prfreeif
+command
+mnextstate
+smtpsendpostdata
+clearflag
+smtppauseforread
+updatestatus
+smtpdelivmail
+ifdef
+unreadycode
+ceurls
+postdataisfile
+xpstatstruct
+statentry
+xpstat
+ceurls
+postdata
+statentry
+xpfiletopost
+mtotalmessagesize
+statentry
+stsize
+endif
+status
+print
+nssmtpprotocol
+sendmessageinfile
+nscomptr
+nsifilespec
+filespec
+nscomptr
+nsiuri
+url
+doqueryinterface
+mrunningurl
+mrunningurl
+getpostmessagefile
+getteraddrefs
+filespec
+url
+filespec
+nsmsgasyncwriteprotocol
+postmessage
+url
+filespec
+setflag
+smtppauseforread
+updatestatus
+smtpdelivmail
+mnextstate
+smtpresponse
+mnextstateafterresponse
+smtpsendmessageresponse
+print
+nssmtpprotocol
+sendpostdata
+print
+status
+prbool
+postmessageinfile
+prtrue
+mrunningurl
+getpostmessage
+postmessageinfile
+postmessageinfile
+sendmessageinfile
+ifdef
+unreadycode
+curtime
+curtime
+xptime
+curtime
+mlasttime
+feprogress
+cewindowid
+xpprogresstext
+mtotalmessagesize
+mtotalamountwritten
+mlasttime
+curtime
+mtotalmessagesize
+fesetprogressbarpercent
+cewindowid
+mtotalamountwritten
+mtotalmessagesize
+endif
+status
+print
+nssmtpprotocol
+sendmessageresponse
+mresponsecode
+mresponsecode
+checksimulatederror
+simulatedsenderror
+nsresult
+rv
+nsexplainerrordetails
+mrunningurl
+nserrorsendingmessage
+mresponsetext
+get
+nsassertion
+nssucceeded
+rv
+failed
+to
+explain
+smtp
+error
+murlerrorstate
+nserrorbutdontshowalert
+nserrorsendingmessage
+updatestatus
+smtpprogressmailsent
+nscomptr
+nsiuri
+url
+doqueryinterface
+mrunningurl
+senddata
+url
+quit
+crlf
+mnextstate
+smtpresponse
+mnextstateafterresponse
+smtpdone
+nsresult
+nssmtpprotocol
+loadurl
+nsiuri
+aurl
+nsisupports
+aconsumer
+nsresult
+rv
+nsok
+testflag
+smtpwaitforredirection
+setflag
+smtploadurlpending
+mpendingconsumer
+aconsumer
+nsok
+clearflag
+smtploadurlpending
+print
+status
+mcontinuationresponse
+aurl
+mrunningurl
+doqueryinterface
+aurl
+nscautostring
+hostname
+aurl
+gethost
+hostname
+hostname
+isempty
+nscomptr
+nsimsgmailnewsurl
+amsgurl
+doqueryinterface
+aurl
+amsgurl
+amsgurl
+seturlstate
+prtrue
+nsok
+rv
+amsgurl
+seturlstate
+prfalse
+nserrorcouldnotlogintosmtpserver
+nserrorbutdontshowalert
+prbool
+postmessage
+prfalse
+mrunningurl
+getpostmessage
+postmessage
+postmessage
+addrs
+addrs
+mnextstate
+smtpresponse
+mnextstateafterresponse
+smtpextnloginresponse
+nsxpidlcstring
+addresses
+nscomptr
+nsimsgheaderparser
+parser
+dogetservice
+nsmailnewsmimeheaderparsercontractid
+mrunningurl
+getrecipients
+gettercopies
+addresses
+nssucceeded
+rv
+parser
+parser
+removeduplicateaddresses
+nsnull
+addresses
+nsnull
+prfalse
+addrs
+addrs
+addrs
+rv
+parser
+parseheaderaddresses
+nsnull
+addrs
+nsnull
+addrs
+maddressesleft
+prfreeif
+addrs
+maddressesleft
+addrs
+nsnull
+checksimulatederror
+simulatedsenderror
+mnextstate
+smtperrordone
+clearflag
+smtppauseforread
+status
+nsmsgnorecipients
+murlerrorstate
+nsmsgnorecipients
+status
+maddresscopy
+addrs
+maddresses
+maddresscopy
+rv
+nsmsgprotocol
+loadurl
+aurl
+aconsumer
+rv
+nsresult
+nssmtpprotocol
+processprotocolstate
+nsiuri
+url
+nsiinputstream
+inputstream
+pruint
+sourceoffset
+pruint
+length
+print
+status
+clearflag
+smtppauseforread
+testflag
+smtppauseforread
+prlog
+smtplogmodule
+prlogalways
+smtp
+entering
+state
+mnextstate
+mnextstate
+smtpresponse
+inputstream
+nsnull
+setflag
+smtppauseforread
+status
+smtpresponse
+inputstream
+length
+smtpstartconnect
+setflag
+smtppauseforread
+mnextstate
+smtpresponse
+mnextstateafterresponse
+smtpextnloginresponse
+smtpfinishconnect
+setflag
+smtppauseforread
+smtploginresponse
+inputstream
+nsnull
+setflag
+smtppauseforread
+status
+loginresponse
+inputstream
+length
+smtptlsresponse
+inputstream
+nsnull
+setflag
+smtppauseforread
+status
+sendtlsresponse
+smtpextnloginresponse
+inputstream
+nsnull
+setflag
+smtppauseforread
+status
+extensionloginresponse
+inputstream
+length
+smtpsendheloresponse
+inputstream
+nsnull
+setflag
+smtppauseforread
+status
+sendheloresponse
+inputstream
+length
+smtpsendehloresponse
+inputstream
+nsnull
+setflag
+smtppauseforread
+status
+sendehloresponse
+inputstream
+length
+smtpauthprocessstate
+status
+processauth
+smtpauthexternalresponse
+smtpauthloginresponse
+inputstream
+nsnull
+setflag
+smtppauseforread
+status
+authloginresponse
+inputstream
+length
+smtpsendauthloginusername
+status
+authloginusername
+smtpsendauthloginpassword
+status
+authloginpassword
+smtpsendvrfyresponse
+inputstream
+nsnull
+setflag
+smtppauseforread
+status
+sendverifyresponse
+smtpsendmailresponse
+inputstream
+nsnull
+setflag
+smtppauseforread
+status
+sendmailresponse
+smtpsendrcptresponse
+inputstream
+nsnull
+setflag
+smtppauseforread
+status
+sendrecipientresponse
+smtpsenddataresponse
+inputstream
+nsnull
+setflag
+smtppauseforread
+status
+senddataresponse
+smtpsendpostdata
+status
+sendpostdata
+smtpsendmessageresponse
+inputstream
+nsnull
+setflag
+smtppauseforread
+status
+sendmessageresponse
+smtpdone
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+seturlstate
+prfalse
+nsok
+mnextstate
+smtpfree
+smtperrordone
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+seturlstate
+prfalse
+murlerrorstate
+mnextstate
+smtpfree
+mnextstate
+smtpfree
+smtpfree
+nsmsgasyncwriteprotocol
+closesocket
+nsok
+mnextstate
+smtperrordone
+status
+mnextstate
+smtpfree
+mnextstate
+smtperrordone
+clearflag
+smtppauseforread
+nsok
+nsresult
+nssmtpprotocol
+getpassword
+apassword
+nsensureargpointer
+apassword
+nsresult
+rv
+nscomptr
+nsismtpurl
+smtpurl
+doqueryinterface
+mrunningurl
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsismtpserver
+smtpserver
+rv
+smtpurl
+getsmtpserver
+getteraddrefs
+smtpserver
+nsensuresuccess
+rv
+rv
+rv
+smtpserver
+getpassword
+apassword
+nsensuresuccess
+rv
+rv
+apassword
+apassword
+rv
+nscrt
+free
+apassword
+apassword
+nsxpidlcstring
+redirectortype
+rv
+smtpserver
+getredirectortype
+gettercopies
+redirectortype
+nsensuresuccess
+rv
+rv
+nscautostring
+prefname
+smtp
+prefname
+append
+redirectortype
+prefname
+append
+hidehostnameforpassword
+nscomptr
+nsiprefservice
+prefs
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+rv
+prefs
+getbranch
+nsnull
+getteraddrefs
+prefbranch
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+username
+rv
+smtpserver
+getusername
+gettercopies
+username
+nsensuresuccess
+rv
+rv
+nscautostring
+promptvalue
+username
+prbool
+hidehostnameforpassword
+prfalse
+rv
+prefbranch
+getboolpref
+prefname
+get
+hidehostnameforpassword
+nssucceeded
+rv
+hidehostnameforpassword
+nsxpidlcstring
+hostname
+rv
+smtpserver
+gethostname
+gettercopies
+hostname
+nsensuresuccess
+rv
+rv
+promptvalue
+append
+promptvalue
+append
+hostname
+rv
+promptforpassword
+smtpserver
+smtpurl
+nsconvertasciitoucs
+promptvalue
+get
+apassword
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nssmtpprotocol
+promptforpassword
+nsismtpserver
+asmtpserver
+nsismtpurl
+asmtpurl
+prunichar
+apromptvalue
+apassword
+nsresult
+rv
+nscomptr
+nsistringbundleservice
+stringservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsistringbundle
+composestringbundle
+rv
+stringservice
+createbundle
+messenger
+locale
+messengercompose
+composemsgs
+properties
+getteraddrefs
+composestringbundle
+nsensuresuccess
+rv
+rv
+prunichar
+formatstrings
+apromptvalue
+nsxpidlstring
+passwordpromptstring
+rv
+composestringbundle
+formatstringfromid
+nssmtppasswordprompt
+formatstrings
+gettercopies
+passwordpromptstring
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiauthprompt
+netprompt
+rv
+asmtpurl
+getauthprompt
+getteraddrefs
+netprompt
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+passwordtitle
+rv
+composestringbundle
+getstringfromid
+nssmtppasswordprompttitle
+gettercopies
+passwordtitle
+nsensuresuccess
+rv
+rv
+rv
+asmtpserver
+getpasswordwithui
+passwordpromptstring
+get
+passwordtitle
+netprompt
+apassword
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nssmtpprotocol
+getusernamepassword
+ausername
+apassword
+nsensureargpointer
+ausername
+nsensureargpointer
+apassword
+nsresult
+rv
+nscomptr
+nsismtpurl
+smtpurl
+doqueryinterface
+mrunningurl
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsismtpserver
+smtpserver
+rv
+smtpurl
+getsmtpserver
+getteraddrefs
+smtpserver
+nsensuresuccess
+rv
+rv
+rv
+smtpserver
+getpassword
+apassword
+nsensuresuccess
+rv
+rv
+apassword
+apassword
+rv
+smtpserver
+getusername
+ausername
+nsensuresuccess
+rv
+rv
+ausername
+ausername
+rv
+nscrt
+free
+ausername
+ausername
+nscrt
+free
+apassword
+apassword
+nsxpidlcstring
+hostname
+rv
+smtpserver
+gethostname
+gettercopies
+hostname
+nsensuresuccess
+rv
+rv
+rv
+promptforpassword
+smtpserver
+smtpurl
+nsconvertasciitoucs
+hostname
+get
+apassword
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nssmtpprotocol
+requestoverrideinfo
+nsismtpserver
+asmtpserver
+nsensurearg
+asmtpserver
+nsresult
+rv
+nscautostring
+contractid
+nsmsglogonredirectorservicecontractid
+nsxpidlcstring
+redirectiontypestr
+asmtpserver
+getredirectortype
+gettercopies
+redirectiontypestr
+redirectiontype
+redirectiontypestr
+redirectiontype
+redirectiontype
+nsok
+contractid
+append
+contractid
+append
+redirectiontypestr
+mlogonredirector
+dogetservice
+contractid
+get
+rv
+mlogonredirector
+nssucceeded
+rv
+nsxpidlcstring
+password
+nsxpidlcstring
+username
+prbool
+requirespassword
+prtrue
+asmtpserver
+getusername
+gettercopies
+username
+mlogonredirector
+requirespassword
+username
+redirectiontypestr
+get
+requirespassword
+requirespassword
+getpassword
+gettercopies
+password
+nscomptr
+nsiprompt
+prompter
+mrunningurl
+getprompt
+getteraddrefs
+prompter
+rv
+mlogonredirector
+logon
+username
+password
+redirectiontype
+prompter
+nsstaticcast
+nsimsglogonredirectionrequester
+nsmsglogonredirectionserviceids
+smtp
+setflag
+smtpwaitforredirection
+setflag
+smtpuseloginredirection
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+seturlstate
+prtrue
+nsok
+updatestatus
+nssmtpconnectingtoserver
+rv
+nsimethodimp
+nssmtpprotocol
+onlogonredirectionerror
+prunichar
+perrmsg
+prbool
+abadpassword
+nscomptr
+nsismtpserver
+smtpserver
+mrunningurl
+getsmtpserver
+getteraddrefs
+smtpserver
+nsensuretrue
+smtpserver
+nserrorfailure
+nsensuretrue
+mlogonredirector
+nserrorfailure
+mlogonredirector
+nsnull
+nscomptr
+nsiprompt
+dialog
+mrunningurl
+perrmsg
+perrmsg
+mrunningurl
+getprompt
+getteraddrefs
+dialog
+dialog
+dialog
+alert
+nsnull
+perrmsg
+abadpassword
+smtpserver
+smtpserver
+forgetpassword
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+seturlstate
+prfalse
+nserrorcouldnotlogintosmtpserver
+nsok
+nsimethodimp
+nssmtpprotocol
+onlogonredirectionprogress
+nsmsglogonredirectionstate
+pstate
+nsok
+nsimethodimp
+nssmtpprotocol
+onlogonredirectionreply
+prunichar
+ahost
+aport
+acookiedata
+acookiesize
+nsensurearg
+ahost
+nsresult
+rv
+nsok
+nscomptr
+nsismtpserver
+smtpserver
+mrunningurl
+getsmtpserver
+getteraddrefs
+smtpserver
+nsensuretrue
+smtpserver
+nserrorfailure
+nsensuretrue
+mlogonredirector
+nserrorfailure
+mlogonredirector
+nsnull
+mlogoncookie
+assign
+acookiedata
+acookiesize
+setflag
+smtpauthloginenabled
+mprefauthmethod
+prefauthany
+nscautostring
+hostcstr
+hostcstr
+assignwithconversion
+ahost
+prlog
+smtplogmodule
+prlogalways
+smtp
+connecting
+to
+on
+port
+hostcstr
+get
+aport
+nscomptr
+nsiinterfacerequestor
+callbacks
+nscomptr
+nsismtpurl
+smtpurl
+doqueryinterface
+mrunningurl
+smtpurl
+smtpurl
+getnotificationcallbacks
+getteraddrefs
+callbacks
+nscomptr
+nsiproxyinfo
+proxyinfo
+rv
+nsexamineforproxy
+mailto
+hostcstr
+get
+aport
+getteraddrefs
+proxyinfo
+nsfailed
+rv
+proxyinfo
+nsnull
+rv
+opennetworksocketwithinfo
+hostcstr
+get
+aport
+nsnull
+proxyinfo
+callbacks
+clearflag
+smtpwaitforredirection
+nscomptr
+nsiuri
+url
+doqueryinterface
+mrunningurl
+testflag
+smtploadurlpending
+rv
+loadurl
+url
+mpendingconsumer
+mpendingconsumer
+nsnull
+rv
\ No newline at end of file
@@ -0,0 +1,1290 @@
+msgcore
+nsxpidlstring
+nsreadableutils
+nsipref
+nsiioservice
+nsipipe
+nsnetcid
+nsescape
+nsnetutil
+nssmtpservice
+nsimsgmailsession
+nsmsgbasecid
+nsmsgcompcid
+nssmtpurl
+nssmtpprotocol
+nsifilespec
+nscomptr
+nsimsgidentity
+nsmsgcomposestringbundle
+nsiprompt
+nsiwindowwatcher
+nsmsgsimulateerror
+nsiutfconverterservice
+nsuconvcid
+define
+serverdelimiter
+define
+appendserversversionprefname
+appendpreconfigsmtpservers
+version
+define
+mailrootpref
+mail
+define
+prefmailsmtpservers
+mail
+smtpservers
+define
+prefmailsmtpserversappendservers
+mail
+smtpservers
+appendsmtpservers
+findserverbykeyentry
+key
+nsismtpserver
+server
+findserverbykeyentry
+findserverbyhostnameentry
+hostname
+username
+nsismtpserver
+server
+findserverbyhostnameentry
+nsdefinecid
+kcsmtpurlcid
+nssmtpurlcid
+nsdefinecid
+kcmailtourlcid
+nsmailtourlcid
+nsdefinecid
+kioservicecid
+nsioservicecid
+nsresult
+nsmsgbuildsmtpurl
+nsifilespec
+afilepath
+asmtphostname
+print
+asmtpport
+asmtpusername
+arecipients
+nsimsgidentity
+asenderidentity
+nsiurllistener
+aurllistener
+nsimsgstatusfeedback
+astatusfeedback
+nsiinterfacerequestor
+anotificationcallbacks
+nsiuri
+aurl
+nsresult
+nsmsgloadsmtpurl
+nsiuri
+aurl
+nsisupports
+aconsumer
+nsirequest
+arequest
+nssmtpservice
+nssmtpservice
+msmtpserversloaded
+prfalse
+nsnewisupportsarray
+getteraddrefs
+msmtpservers
+nssmtpservice
+nssmtpservice
+nsimplisupports
+nssmtpservice
+nsismtpservice
+nsiprotocolhandler
+nsresult
+nssmtpservice
+sendmailmessage
+nsifilespec
+afilepath
+arecipients
+nsimsgidentity
+asenderidentity
+apassword
+nsiurllistener
+aurllistener
+nsimsgstatusfeedback
+astatusfeedback
+nsiinterfacerequestor
+anotificationcallbacks
+nsiuri
+aurl
+nsirequest
+arequest
+nsiuri
+urltorun
+nsnull
+nsresult
+rv
+nsok
+nscomptr
+nsismtpserver
+smtpserver
+rv
+getsmtpserverbyidentity
+asenderidentity
+getteraddrefs
+smtpserver
+nssucceeded
+rv
+smtpserver
+apassword
+apassword
+smtpserver
+setpassword
+apassword
+nsxpidlcstring
+smtphostname
+nsxpidlcstring
+smtpusername
+print
+smtpport
+smtpserver
+gethostname
+gettercopies
+smtphostname
+smtpserver
+getusername
+gettercopies
+smtpusername
+smtpserver
+getport
+smtpport
+smtphostname
+smtphostname
+get
+checksimulatederror
+simulatedsenderror
+rv
+nsmsgbuildsmtpurl
+afilepath
+smtphostname
+smtpport
+smtpusername
+arecipients
+asenderidentity
+aurllistener
+astatusfeedback
+anotificationcallbacks
+urltorun
+nssucceeded
+rv
+urltorun
+nscomptr
+nsismtpurl
+smtpurl
+doqueryinterface
+urltorun
+rv
+nssucceeded
+rv
+smtpurl
+setsmtpserver
+smtpserver
+rv
+nsmsgloadsmtpurl
+urltorun
+nsnull
+arequest
+aurl
+aurl
+urltorun
+nsifrelease
+urltorun
+rv
+nserrorcouldnotlogintosmtpserver
+rv
+nsresult
+nsmsgbuildsmtpurl
+nsifilespec
+afilepath
+asmtphostname
+print
+asmtpport
+asmtpusername
+arecipients
+nsimsgidentity
+asenderidentity
+nsiurllistener
+aurllistener
+nsimsgstatusfeedback
+astatusfeedback
+nsiinterfacerequestor
+anotificationcallbacks
+nsiuri
+aurl
+nsresult
+rv
+nsok
+nscomptr
+nsismtpurl
+smtpurl
+docreateinstance
+kcsmtpurlcid
+rv
+nssucceeded
+rv
+smtpurl
+nscautostring
+urlspec
+smtp
+asmtpusername
+nsxpidlcstring
+escapedusername
+gettercopies
+escapedusername
+nsescape
+asmtpusername
+urlxalphas
+urlspec
+escapedusername
+urlspec
+urlspec
+asmtphostname
+plstrchr
+asmtphostname
+urlspec
+urlspec
+appendint
+asmtpport
+asmtpport
+nsismtpurl
+defaultsmtpport
+urlspec
+get
+nscomptr
+nsimsgmailnewsurl
+url
+doqueryinterface
+smtpurl
+url
+setspec
+urlspec
+smtpurl
+setrecipients
+arecipients
+smtpurl
+setpostmessagefile
+afilepath
+smtpurl
+setsenderidentity
+asenderidentity
+smtpurl
+setnotificationcallbacks
+anotificationcallbacks
+nscomptr
+nsiprompt
+smtpprompt
+dogetinterface
+anotificationcallbacks
+nscomptr
+nsiauthprompt
+smtpauthprompt
+dogetinterface
+anotificationcallbacks
+smtpprompt
+smtpauthprompt
+nscomptr
+nsiwindowwatcher
+wwatch
+dogetservice
+nswindowwatchercontractid
+wwatch
+smtpprompt
+wwatch
+getnewprompter
+getteraddrefs
+smtpprompt
+smtpauthprompt
+wwatch
+getnewauthprompter
+getteraddrefs
+smtpauthprompt
+smtpurl
+setprompt
+smtpprompt
+smtpurl
+setauthprompt
+smtpauthprompt
+url
+registerlistener
+aurllistener
+astatusfeedback
+url
+setstatusfeedback
+astatusfeedback
+rv
+smtpurl
+queryinterface
+nsgetiid
+nsiuri
+aurl
+rv
+nsresult
+nsmsgloadsmtpurl
+nsiuri
+aurl
+nsisupports
+aconsumer
+nsirequest
+arequest
+nscomptr
+nsismtpurl
+smtpurl
+nssmtpprotocol
+smtpprotocol
+nsnull
+nsresult
+rv
+nsok
+aurl
+rv
+smtpurl
+doqueryinterface
+aurl
+smtpurl
+smtpprotocol
+nssmtpprotocol
+aurl
+smtpprotocol
+nsnull
+nserroroutofmemory
+nsaddref
+smtpprotocol
+rv
+smtpprotocol
+loadurl
+aurl
+aconsumer
+smtpprotocol
+queryinterface
+nsgetiid
+nsirequest
+arequest
+nsrelease
+smtpprotocol
+rv
+nsimethodimp
+nssmtpservice
+getscheme
+nsacstring
+ascheme
+ascheme
+mailto
+nsok
+nsimethodimp
+nssmtpservice
+getdefaultport
+print
+adefaultport
+nsresult
+rv
+nsok
+adefaultport
+adefaultport
+nsismtpurl
+defaultsmtpport
+rv
+nserrornullpointer
+rv
+nsimethodimp
+nssmtpservice
+allowport
+print
+port
+scheme
+prbool
+retval
+retval
+prtrue
+nsok
+nsimethodimp
+nssmtpservice
+getprotocolflags
+pruint
+result
+result
+urinorelative
+allowsproxy
+nsok
+nsimethodimp
+nssmtpservice
+newuri
+nsacstring
+aspec
+aorigincharset
+nsiuri
+abaseuri
+nsiuri
+retval
+nsresult
+rv
+nsok
+nscomptr
+nsiuri
+mailtourl
+rv
+nscomponentmanager
+createinstance
+kcmailtourlcid
+nsgetiid
+nsiuri
+getteraddrefs
+mailtourl
+nssucceeded
+rv
+nscautostring
+utfspec
+aorigincharset
+nscomptr
+nsiutfconverterservice
+utfconverter
+dogetservice
+nsutfconverterservicecontractid
+rv
+nssucceeded
+rv
+rv
+utfconverter
+converturispectoutf
+aspec
+aorigincharset
+utfspec
+aorigincharset
+nssucceeded
+rv
+mailtourl
+setspec
+utfspec
+mailtourl
+setspec
+aspec
+rv
+mailtourl
+queryinterface
+nsgetiid
+nsiuri
+retval
+rv
+nsimethodimp
+nssmtpservice
+newchannel
+nsiuri
+auri
+nsichannel
+retval
+nscomptr
+nsiinputstream
+pipein
+nscomptr
+nsioutputstream
+pipeout
+nsresult
+rv
+nsnewpipe
+getteraddrefs
+pipein
+getteraddrefs
+pipeout
+nsfailed
+rv
+rv
+pipeout
+close
+nsnewinputstreamchannel
+retval
+auri
+pipein
+nsliteralcstring
+application
+mailto
+nsimethodimp
+nssmtpservice
+getsmtpservers
+nsisupportsarray
+aresult
+nsensureargpointer
+aresult
+nsresult
+rv
+pruint
+servercount
+rv
+msmtpservers
+count
+servercount
+nsfailed
+rv
+rv
+servercount
+loadsmtpservers
+aresult
+msmtpservers
+nsaddref
+aresult
+nsok
+nsresult
+nssmtpservice
+loadsmtpservers
+msmtpserversloaded
+nsok
+nsresult
+rv
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+rv
+nsxpidlcstring
+tempserverlist
+nsxpidlcstring
+serverlist
+rv
+prefs
+copycharpref
+prefmailsmtpservers
+gettercopies
+tempserverlist
+tempserverlist
+isempty
+tempsmtpserverstr
+tempsmtpserversstr
+nscrt
+strdup
+tempserverlist
+get
+temptoken
+nscrt
+strtok
+tempsmtpserversstr
+serverdelimiter
+tempsmtpserverstr
+nscautostring
+tempsmtpserver
+temptoken
+temptoken
+serverlist
+isempty
+strstr
+serverlist
+get
+temptoken
+tempsmtpserver
+assign
+temptoken
+tempsmtpserver
+stripwhitespace
+serverlist
+isempty
+serverlist
+serverdelimiter
+serverlist
+tempsmtpserver
+temptoken
+nscrt
+strtok
+tempsmtpserverstr
+serverdelimiter
+tempsmtpserverstr
+nscrt
+free
+tempsmtpserversstr
+serverlist
+tempserverlist
+nsxpidlcstring
+appendserverlist
+rv
+prefs
+copycharpref
+prefmailsmtpserversappendservers
+gettercopies
+appendserverlist
+serverlist
+isempty
+appendserverlist
+isempty
+nscomptr
+nsiprefbranch
+defaultsprefbranch
+rv
+prefs
+getdefaultbranch
+mailrootpref
+getteraddrefs
+defaultsprefbranch
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+rv
+prefs
+getbranch
+mailrootpref
+getteraddrefs
+prefbranch
+nsensuresuccess
+rv
+rv
+print
+appendsmtpserverscurrentversion
+print
+appendsmtpserversdefaultversion
+rv
+prefbranch
+getintpref
+appendserversversionprefname
+appendsmtpserverscurrentversion
+nsensuresuccess
+rv
+rv
+rv
+defaultsprefbranch
+getintpref
+appendserversversionprefname
+appendsmtpserversdefaultversion
+nsensuresuccess
+rv
+rv
+appendsmtpserverscurrentversion
+appendsmtpserversdefaultversion
+appendserverlist
+isempty
+serverlist
+isempty
+nscstringarray
+existingsmtpserversarray
+existingsmtpserversarray
+parsestring
+serverlist
+get
+serverdelimiter
+newsmtpserverstr
+preconfigsmtpserversstr
+tonewcstring
+appendserverlist
+token
+nscrt
+strtok
+preconfigsmtpserversstr
+serverdelimiter
+newsmtpserverstr
+nscautostring
+newsmtpserver
+token
+token
+token
+newsmtpserver
+assign
+token
+newsmtpserver
+stripwhitespace
+existingsmtpserversarray
+indexof
+newsmtpserver
+serverlist
+serverlist
+newsmtpserver
+token
+nscrt
+strtok
+newsmtpserverstr
+serverdelimiter
+newsmtpserverstr
+prfree
+preconfigsmtpserversstr
+serverlist
+appendserverlist
+rv
+prefbranch
+setintpref
+appendserversversionprefname
+appendsmtpserverscurrentversion
+newstr
+pref
+nscrt
+strtok
+nsconstcast
+serverlist
+newstr
+pref
+nscomptr
+nsismtpserver
+server
+rv
+getserverbykey
+pref
+getteraddrefs
+server
+nsassertion
+nssucceeded
+rv
+getserverbykey
+failed
+pref
+nscrt
+strtok
+newstr
+newstr
+savekeylist
+msmtpserversloaded
+prtrue
+nsok
+nsresult
+nssmtpservice
+savekeylist
+nsresult
+rv
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+rv
+prefs
+setcharpref
+prefmailsmtpservers
+mserverkeylist
+get
+nsresult
+nssmtpservice
+createkeyedserver
+key
+nsismtpserver
+aresult
+key
+nserrornullpointer
+nscomptr
+nsismtpserver
+server
+nsresult
+rv
+rv
+nscomponentmanager
+createinstance
+nssmtpservercontractid
+nsnull
+nsgetiid
+nsismtpserver
+getteraddrefs
+server
+nsfailed
+rv
+rv
+server
+setkey
+nsconstcast
+key
+msmtpservers
+appendelement
+server
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nssucceeded
+rv
+mserverkeylist
+isempty
+mserverkeylist
+key
+mserverkeylist
+mserverkeylist
+key
+aresult
+aresult
+server
+nsifaddref
+aresult
+nsok
+nsimethodimp
+nssmtpservice
+getsessiondefaultserver
+nsismtpserver
+aserver
+nsensureargpointer
+aserver
+msessiondefaultserver
+getdefaultserver
+aserver
+aserver
+msessiondefaultserver
+nsaddref
+aserver
+nsok
+nsimethodimp
+nssmtpservice
+setsessiondefaultserver
+nsismtpserver
+aserver
+msessiondefaultserver
+aserver
+nsok
+nsimethodimp
+nssmtpservice
+getdefaultserver
+nsismtpserver
+aserver
+nsensureargpointer
+aserver
+nsresult
+rv
+loadsmtpservers
+aserver
+nsnull
+mdefaultsmtpserver
+nscomptr
+nsipref
+pref
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+rv
+nsxpidlcstring
+defaultserverkey
+rv
+pref
+copycharpref
+mail
+smtp
+defaultserver
+gettercopies
+defaultserverkey
+nssucceeded
+rv
+defaultserverkey
+isempty
+nscomptr
+nsismtpserver
+server
+rv
+getserverbykey
+defaultserverkey
+getteraddrefs
+mdefaultsmtpserver
+pruint
+count
+nscomptr
+nsisupportsarray
+smtpservers
+rv
+getsmtpservers
+getteraddrefs
+smtpservers
+rv
+smtpservers
+count
+count
+count
+nsnull
+rv
+msmtpservers
+queryelementat
+nsgetiid
+nsismtpserver
+getteraddrefs
+mdefaultsmtpserver
+nsfailed
+rv
+rv
+nsensuretrue
+mdefaultsmtpserver
+nserrorunexpected
+nsxpidlcstring
+serverkey
+mdefaultsmtpserver
+getkey
+gettercopies
+serverkey
+nssucceeded
+rv
+pref
+setcharpref
+mail
+smtp
+defaultserver
+serverkey
+aserver
+mdefaultsmtpserver
+nsifaddref
+aserver
+nsok
+nsimethodimp
+nssmtpservice
+setdefaultserver
+nsismtpserver
+aserver
+nsensureargpointer
+aserver
+mdefaultsmtpserver
+aserver
+nsxpidlcstring
+serverkey
+nsresult
+rv
+aserver
+getkey
+gettercopies
+serverkey
+nsensuresuccess
+rv
+rv
+nscomptr
+nsipref
+pref
+dogetservice
+nsprefcontractid
+rv
+pref
+setcharpref
+mail
+smtp
+defaultserver
+serverkey
+nsok
+prbool
+nssmtpservice
+findserverbykey
+nsisupports
+element
+adata
+nsresult
+rv
+nscomptr
+nsismtpserver
+server
+doqueryinterface
+element
+rv
+nsfailed
+rv
+prtrue
+findserverbykeyentry
+entry
+findserverbykeyentry
+adata
+nsxpidlcstring
+key
+rv
+server
+getkey
+gettercopies
+key
+nsfailed
+rv
+prtrue
+nscrt
+strcmp
+key
+entry
+key
+entry
+server
+server
+prfalse
+prtrue
+nsimethodimp
+nssmtpservice
+createsmtpserver
+nsismtpserver
+aresult
+aresult
+nserrornullpointer
+loadsmtpservers
+nsresult
+rv
+print
+prbool
+unique
+prfalse
+findserverbykeyentry
+entry
+nscautostring
+key
+key
+smtp
+key
+appendint
+entry
+key
+key
+get
+entry
+server
+nsnull
+msmtpservers
+enumerateforwards
+findserverbykey
+entry
+entry
+server
+unique
+prtrue
+unique
+rv
+createkeyedserver
+key
+get
+aresult
+savekeylist
+rv
+nsresult
+nssmtpservice
+getserverbykey
+akey
+nsismtpserver
+aresult
+nsensureargpointer
+aresult
+findserverbykeyentry
+entry
+entry
+key
+akey
+entry
+server
+nsnull
+msmtpservers
+enumerateforwards
+findserverbykey
+entry
+entry
+server
+aresult
+entry
+server
+nsaddref
+aresult
+nsok
+createkeyedserver
+akey
+aresult
+nsimethodimp
+nssmtpservice
+deletesmtpserver
+nsismtpserver
+aserver
+aserver
+nsok
+nsresult
+rv
+print
+idx
+rv
+msmtpservers
+getindexof
+aserver
+idx
+nsfailed
+rv
+idx
+nsok
+nsxpidlcstring
+serverkey
+aserver
+getkey
+gettercopies
+serverkey
+rv
+msmtpservers
+deleteelementat
+idx
+mdefaultsmtpserver
+get
+aserver
+mdefaultsmtpserver
+nsnull
+msessiondefaultserver
+get
+aserver
+msessiondefaultserver
+nsnull
+nscautostring
+newserverlist
+newstr
+rest
+tonewcstring
+mserverkeylist
+token
+nscrt
+strtok
+rest
+newstr
+token
+nscrt
+strcmp
+token
+serverkey
+newserverlist
+isempty
+newserverlist
+token
+newserverlist
+newserverlist
+token
+token
+nscrt
+strtok
+newstr
+newstr
+aserver
+clearallvalues
+mserverkeylist
+newserverlist
+savekeylist
+rv
+prbool
+nssmtpservice
+findserverbyhostname
+nsisupports
+element
+adata
+nsresult
+rv
+nscomptr
+nsismtpserver
+server
+doqueryinterface
+element
+rv
+nsfailed
+rv
+prtrue
+findserverbyhostnameentry
+entry
+findserverbyhostnameentry
+adata
+nsxpidlcstring
+hostname
+rv
+server
+gethostname
+gettercopies
+hostname
+nsfailed
+rv
+prtrue
+nsxpidlcstring
+username
+rv
+server
+getusername
+gettercopies
+username
+nsfailed
+rv
+prtrue
+prbool
+checkhostname
+entry
+hostname
+plstrcmp
+entry
+hostname
+prbool
+checkusername
+entry
+username
+plstrcmp
+entry
+username
+checkhostname
+plstrcasecmp
+entry
+hostname
+hostname
+checkusername
+plstrcmp
+entry
+username
+username
+entry
+server
+server
+prfalse
+prtrue
+nsimethodimp
+nssmtpservice
+findserver
+ausername
+ahostname
+nsismtpserver
+aresult
+nsensureargpointer
+aresult
+findserverbyhostnameentry
+entry
+entry
+server
+nsnull
+entry
+hostname
+ahostname
+entry
+username
+ausername
+msmtpservers
+enumerateforwards
+findserverbyhostname
+entry
+aresult
+entry
+server
+nsifaddref
+aresult
+nsok
+nsimethodimp
+nssmtpservice
+getsmtpserverbyidentity
+nsimsgidentity
+asenderidentity
+nsismtpserver
+asmtpserver
+nsensureargpointer
+asmtpserver
+nsresult
+rv
+nserrorfailure
+asenderidentity
+nsxpidlcstring
+smtpserverkey
+rv
+asenderidentity
+getsmtpserverkey
+gettercopies
+smtpserverkey
+nssucceeded
+rv
+smtpserverkey
+isempty
+rv
+getserverbykey
+smtpserverkey
+asmtpserver
+nsfailed
+rv
+asmtpserver
+rv
+getdefaultserver
+asmtpserver
+rv nsresult
\ No newline at end of file
@@ -0,0 +1,883 @@
+msgcore
+nsiuri
+nsnetcid
+nssmtpurl
+nsstring
+nsreadableutils
+nsxpidlstring
+nsescape
+nsimimeconverter
+nsmsgmimecid
+nsisupportsobsolete
+nsdefinecid
+ksimpleuricid
+nssimpleuricid
+nsmailtourl
+nsmailtourl
+mformat
+nsimsgcompformat
+default
+nscomponentmanager
+createinstance
+ksimpleuricid
+nsnull
+nsgetiid
+nsiuri
+getteraddrefs
+mbaseurl
+nsmailtourl
+nsmailtourl
+nsimplisupports
+nsmailtourl
+nsimailtourl
+nsiuri
+nsresult
+nsmailtourl
+parsemailtourl
+searchpart
+rest
+searchpart
+cleanupmailtostate
+rest
+rest
+rest
+rest
+token
+nscrt
+strtok
+rest
+rest
+token
+token
+value
+eq
+plstrchr
+token
+eq
+value
+eq
+eq
+nscrt
+toupper
+token
+nscrt
+strcasecmp
+token
+bcc
+mbccpart
+isempty
+mbccpart
+mbccpart
+value
+mbccpart
+value
+nscrt
+strcasecmp
+token
+body
+mbodypart
+isempty
+mbodypart
+mbodypart
+value
+mbodypart
+value
+nscrt
+strcasecmp
+token
+cc
+mccpart
+isempty
+mccpart
+mccpart
+value
+mccpart
+value
+nscrt
+strcasecmp
+token
+followup
+to
+mfollowuptopart
+value
+nscrt
+strcasecmp
+token
+from
+mfrompart
+value
+nscrt
+strcasecmp
+token
+html
+part
+nscrt
+strcasecmp
+token
+html
+body
+mhtmlpart
+value
+mformat
+nsimsgcompformat
+html
+nscrt
+strcasecmp
+token
+newsgroups
+mnewsgrouppart
+value
+nscrt
+strcasecmp
+token
+newshost
+mnewshostpart
+value
+nscrt
+strcasecmp
+token
+organization
+morganizationpart
+value
+nscrt
+strcasecmp
+token
+references
+mreferencepart
+value
+nscrt
+strcasecmp
+token
+reply
+to
+mreplytopart
+value
+nscrt
+strcasecmp
+token
+subject
+msubjectpart
+value
+nscrt
+strcasecmp
+token
+priority
+mprioritypart
+plstrdup
+value
+nscrt
+strcasecmp
+token
+to
+mtopart
+isempty
+mtopart
+mtopart
+value
+mtopart
+value
+eq
+eq
+token
+nscrt
+strtok
+rest
+rest
+nscomptr
+nsimimeconverter
+mimeconverter
+dogetservice
+nsmimeconvertercontractid
+nsxpidlcstring
+decodedstring
+mtopart
+isempty
+nsunescape
+nsconstcast
+mtopart
+get
+mimeconverter
+nssucceeded
+mimeconverter
+decodemimeheader
+mtopart
+get
+gettercopies
+decodedstring
+utf
+prfalse
+decodedstring
+mtopart
+decodedstring
+mccpart
+isempty
+nsunescape
+nsconstcast
+mccpart
+get
+mimeconverter
+nssucceeded
+mimeconverter
+decodemimeheader
+mccpart
+get
+gettercopies
+decodedstring
+utf
+prfalse
+decodedstring
+mccpart
+decodedstring
+msubjectpart
+isempty
+nsunescape
+nsconstcast
+msubjectpart
+get
+mimeconverter
+nssucceeded
+mimeconverter
+decodemimeheader
+msubjectpart
+get
+gettercopies
+decodedstring
+utf
+prfalse
+decodedstring
+msubjectpart
+decodedstring
+mnewsgrouppart
+isempty
+nsunescape
+nsconstcast
+mnewsgrouppart
+get
+mreferencepart
+isempty
+nsunescape
+nsconstcast
+mreferencepart
+get
+mbodypart
+isempty
+nsunescape
+nsconstcast
+mbodypart
+get
+mimeconverter
+nssucceeded
+mimeconverter
+decodemimeheader
+mbodypart
+get
+gettercopies
+decodedstring
+utf
+prfalse
+prfalse
+decodedstring
+mbodypart
+decodedstring
+mnewshostpart
+isempty
+nsunescape
+nsconstcast
+mnewshostpart
+get
+nsok
+nsimethodimp
+nsmailtourl
+setspec
+nsacstring
+aspec
+mbaseurl
+setspec
+aspec
+parseurl
+nsresult
+nsmailtourl
+cleanupmailtostate
+mccpart
+msubjectpart
+mnewsgrouppart
+mnewshostpart
+mreferencepart
+mbodypart
+mbccpart
+mfollowuptopart
+mfrompart
+mhtmlpart
+morganizationpart
+mreplytopart
+mprioritypart
+nsok
+nsresult
+nsmailtourl
+parseurl
+nsresult
+rv
+nsok
+nscautostring
+apath
+mbaseurl
+getpath
+apath
+mtopart
+assign
+apath
+print
+startofsearchpart
+mtopart
+findchar
+startofsearchpart
+nscautostring
+searchpart
+pruint
+numextrachars
+mtopart
+right
+searchpart
+mtopart
+length
+startofsearchpart
+searchpart
+isempty
+mtopart
+cut
+startofsearchpart
+numextrachars
+parsemailtourl
+nsconstcast
+searchpart
+get
+mtopart
+isempty
+nsunescape
+nsconstcast
+mtopart
+get
+rv
+nsimethodimp
+nsmailtourl
+getmessagecontents
+atopart
+accpart
+abccpart
+afrompart
+afollowuptopart
+aorganizationpart
+areplytopart
+asubjectpart
+abodypart
+ahtmlpart
+areferencepart
+aattachmentpart
+aprioritypart
+anewsgrouppart
+anewshostpart
+msgcomposeformat
+aformat
+atopart
+atopart
+tonewcstring
+mtopart
+accpart
+accpart
+tonewcstring
+mccpart
+abccpart
+abccpart
+tonewcstring
+mbccpart
+afrompart
+afrompart
+tonewcstring
+mfrompart
+afollowuptopart
+afollowuptopart
+tonewcstring
+mfollowuptopart
+aorganizationpart
+aorganizationpart
+tonewcstring
+morganizationpart
+areplytopart
+areplytopart
+tonewcstring
+mreplytopart
+asubjectpart
+asubjectpart
+tonewcstring
+msubjectpart
+abodypart
+abodypart
+tonewcstring
+mbodypart
+ahtmlpart
+ahtmlpart
+tonewcstring
+mhtmlpart
+areferencepart
+areferencepart
+tonewcstring
+mreferencepart
+aattachmentpart
+aattachmentpart
+nsnull
+aprioritypart
+aprioritypart
+tonewcstring
+mprioritypart
+anewsgrouppart
+anewsgrouppart
+tonewcstring
+mnewsgrouppart
+anewshostpart
+anewshostpart
+tonewcstring
+mnewshostpart
+aformat
+aformat
+mformat
+nsok
+nsimethodimp
+nsmailtourl
+getspec
+nsacstring
+aspec
+mbaseurl
+getspec
+aspec
+nsimethodimp
+nsmailtourl
+getprepath
+nsacstring
+aprepath
+mbaseurl
+getprepath
+aprepath
+nsimethodimp
+nsmailtourl
+getscheme
+nsacstring
+ascheme
+mbaseurl
+getscheme
+ascheme
+nsimethodimp
+nsmailtourl
+setscheme
+nsacstring
+ascheme
+mbaseurl
+setscheme
+ascheme
+parseurl
+nsimethodimp
+nsmailtourl
+getuserpass
+nsacstring
+auserpass
+mbaseurl
+getuserpass
+auserpass
+nsimethodimp
+nsmailtourl
+setuserpass
+nsacstring
+auserpass
+mbaseurl
+setuserpass
+auserpass
+parseurl
+nsimethodimp
+nsmailtourl
+getusername
+nsacstring
+ausername
+mbaseurl
+getusername
+ausername
+nsimethodimp
+nsmailtourl
+setusername
+nsacstring
+ausername
+mbaseurl
+setusername
+ausername
+parseurl
+nsimethodimp
+nsmailtourl
+getpassword
+nsacstring
+apassword
+mbaseurl
+getpassword
+apassword
+nsimethodimp
+nsmailtourl
+setpassword
+nsacstring
+apassword
+mbaseurl
+setpassword
+apassword
+parseurl
+nsimethodimp
+nsmailtourl
+gethostport
+nsacstring
+ahostport
+mbaseurl
+gethost
+ahostport
+nsimethodimp
+nsmailtourl
+sethostport
+nsacstring
+ahostport
+mbaseurl
+sethost
+ahostport
+parseurl
+nsimethodimp
+nsmailtourl
+gethost
+nsacstring
+ahost
+mbaseurl
+gethost
+ahost
+nsimethodimp
+nsmailtourl
+sethost
+nsacstring
+ahost
+mbaseurl
+sethost
+ahost
+parseurl
+nsimethodimp
+nsmailtourl
+getport
+print
+aport
+mbaseurl
+getport
+aport
+nsimethodimp
+nsmailtourl
+setport
+print
+aport
+mbaseurl
+setport
+aport
+parseurl
+nsimethodimp
+nsmailtourl
+getpath
+nsacstring
+apath
+mbaseurl
+getpath
+apath
+nsimethodimp
+nsmailtourl
+setpath
+nsacstring
+apath
+mbaseurl
+setpath
+apath
+parseurl
+nsimethodimp
+nsmailtourl
+getasciihost
+nsacstring
+ahosta
+mbaseurl
+getasciihost
+ahosta
+nsimethodimp
+nsmailtourl
+getasciispec
+nsacstring
+aspeca
+mbaseurl
+getasciispec
+aspeca
+nsimethodimp
+nsmailtourl
+getorigincharset
+nsacstring
+aorigincharset
+mbaseurl
+getorigincharset
+aorigincharset
+nsimethodimp
+nsmailtourl
+schemeis
+ascheme
+prbool
+retval
+mbaseurl
+schemeis
+ascheme
+retval
+nsimethodimp
+nsmailtourl
+equals
+nsiuri
+other
+prbool
+retval
+mbaseurl
+equals
+other
+retval
+nsimethodimp
+nsmailtourl
+clone
+nsiuri
+retval
+mbaseurl
+clone
+retval
+nsimethodimp
+nsmailtourl
+resolve
+nsacstring
+relativepath
+nsacstring
+result
+mbaseurl
+resolve
+relativepath
+result
+nssmtpurl
+nssmtpurl
+nsmsgmailnewsurl
+mfilename
+nsnull
+mispostmessage
+prtrue
+nssmtpurl
+nssmtpurl
+nsimplisupportsinherited
+nssmtpurl
+nsmsgmailnewsurl
+nsismtpurl
+nsimethodimp
+nssmtpurl
+setspec
+nsacstring
+aspec
+nsresult
+rv
+nsmsgmailnewsurl
+setspec
+aspec
+nssucceeded
+rv
+rv
+parseurl
+rv
+nsresult
+nssmtpurl
+parseurl
+nsresult
+rv
+nsok
+nscautostring
+username
+rv
+getusername
+username
+nsfailed
+rv
+rv
+musername
+username
+nsok
+nsimethodimp
+nssmtpurl
+setrecipients
+arecipientslist
+nsensurearg
+arecipientslist
+mtopart
+arecipientslist
+mtopart
+isempty
+nsunescape
+nsconstcast
+mtopart
+get
+nsok
+nsimethodimp
+nssmtpurl
+getrecipients
+arecipientslist
+nsensureargpointer
+arecipientslist
+arecipientslist
+arecipientslist
+tonewcstring
+mtopart
+nsok
+nsimplgetset
+nssmtpurl
+postmessage
+prbool
+mispostmessage
+nsimethodimp
+nssmtpurl
+setpostmessagefile
+nsifilespec
+afilespec
+nsresult
+rv
+nsok
+afilespec
+mfilename
+afilespec
+rv
+nserrornullpointer
+rv
+nsimethodimp
+nssmtpurl
+getpostmessagefile
+nsifilespec
+afilespec
+nsresult
+rv
+nsok
+afilespec
+afilespec
+mfilename
+nsifaddref
+afilespec
+rv
+nserrornullpointer
+rv
+nsimethodimp
+nssmtpurl
+getsenderidentity
+nsimsgidentity
+asenderidentity
+nsensureargpointer
+asenderidentity
+asenderidentity
+msenderidentity
+nsaddref
+asenderidentity
+nsok
+nsimethodimp
+nssmtpurl
+setsenderidentity
+nsimsgidentity
+asenderidentity
+nsensureargpointer
+asenderidentity
+msenderidentity
+asenderidentity
+nsok
+nsimethodimp
+nssmtpurl
+setprompt
+nsiprompt
+anetprompt
+nsensureargpointer
+anetprompt
+mnetprompt
+anetprompt
+nsok
+nsimethodimp
+nssmtpurl
+getprompt
+nsiprompt
+anetprompt
+nsensureargpointer
+anetprompt
+mnetprompt
+nserrornullpointer
+anetprompt
+mnetprompt
+nsaddref
+anetprompt
+nsok
+nsimethodimp
+nssmtpurl
+setauthprompt
+nsiauthprompt
+anetauthprompt
+nsensureargpointer
+anetauthprompt
+mnetauthprompt
+anetauthprompt
+nsok
+nsimethodimp
+nssmtpurl
+getauthprompt
+nsiauthprompt
+anetauthprompt
+nsensureargpointer
+anetauthprompt
+mnetauthprompt
+nserrornullpointer
+anetauthprompt
+mnetauthprompt
+nsaddref
+anetauthprompt
+nsok
+nsimethodimp
+nssmtpurl
+setnotificationcallbacks
+nsiinterfacerequestor
+acallbacks
+nsensureargpointer
+acallbacks
+mcallbacks
+acallbacks
+nsok
+nsimethodimp
+nssmtpurl
+getnotificationcallbacks
+nsiinterfacerequestor
+acallbacks
+nsensureargpointer
+acallbacks
+mcallbacks
+nserrornullpointer
+acallbacks
+mcallbacks
+nsaddref
+acallbacks
+nsok
+nsimethodimp
+nssmtpurl
+setsmtpserver
+nsismtpserver
+asmtpserver
+nsensureargpointer
+asmtpserver
+msmtpserver
+asmtpserver
+nsok
+nsimethodimp
+nssmtpurl
+getsmtpserver
+nsismtpserver
+asmtpserver
+nsensureargpointer
+asmtpserver
+msmtpserver
+nserrornullpointer
+asmtpserver
+msmtpserver
+nsaddref
+asmtpserver
+nsok
\ No newline at end of file
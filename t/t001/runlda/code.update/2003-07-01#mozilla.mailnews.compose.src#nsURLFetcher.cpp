@@ -0,0 +1,752 @@
+nsurlfetcher
+msgcore
+nscomptr
+stdio
+nscore
+nsifactory
+nsisupports
+comin
+prmem
+plstr
+nsicomponentmanager
+nsstring
+nsiioservice
+nsichannel
+nsnetutil
+nsmimetypes
+nsihttpchannel
+nsiwebprogress
+nsmsgattachmenthandler
+nsmsgsend
+nsistreamconverterservice
+nsdefinecid
+kioservicecid
+nsioservicecid
+nsimplisupports
+nsurlfetcher
+nsiurlfetcher
+nsistreamlistener
+nsiuricontentlistener
+nsiinterfacerequestor
+nsiwebprogresslistener
+nsisupportsweakreference
+nsurlfetcher
+nsurlfetcher
+defined
+debugducarroz
+printf
+create
+nsurlfetcher
+endif
+mtotalwritten
+mbuffer
+nsnull
+mbuffersize
+mstillrunning
+prtrue
+mcallback
+nsnull
+monstoprequestprocessed
+prfalse
+misfile
+prfalse
+nsurlfetcherstreamconsumer
+consumer
+nsurlfetcherstreamconsumer
+mconverter
+doqueryinterface
+consumer
+nsurlfetcher
+nsurlfetcher
+defined
+debugducarroz
+printf
+dispose
+nsurlfetcher
+endif
+mstillrunning
+prfalse
+prfreeif
+mbuffer
+mloadcookie
+nscomptr
+nsiwebprogress
+webprogress
+doqueryinterface
+mloadcookie
+webprogress
+webprogress
+removeprogresslistener
+nsimethodimp
+nsurlfetcher
+getinterface
+nsiid
+aiid
+ainstanceptr
+nsensureargpointer
+ainstanceptr
+queryinterface
+aiid
+ainstanceptr
+nsimethodimp
+nsurlfetcher
+onstarturiopen
+nsiuri
+auri
+prbool
+aabortopen
+nsok
+nsimethodimp
+nsurlfetcher
+ispreferred
+acontenttype
+adesiredcontenttype
+prbool
+acanhandlecontent
+canhandlecontent
+acontenttype
+prtrue
+adesiredcontenttype
+acanhandlecontent
+nsimethodimp
+nsurlfetcher
+canhandlecontent
+acontenttype
+prbool
+aiscontentpreferred
+adesiredcontenttype
+prbool
+acanhandlecontent
+misfile
+nscrt
+strcasecmp
+acontenttype
+messagerfc
+adesiredcontenttype
+nscrt
+strdup
+text
+html
+acanhandlecontent
+prtrue
+nsok
+nsimethodimp
+nsurlfetcher
+docontent
+acontenttype
+prbool
+aiscontentpreferred
+nsirequest
+request
+nsistreamlistener
+acontenthandler
+prbool
+aabortprocess
+nsresult
+rv
+nsok
+aabortprocess
+aabortprocess
+prfalse
+queryinterface
+nsgetiid
+nsistreamlistener
+acontenthandler
+nscrt
+strcasecmp
+acontenttype
+unknowncontenttype
+nscrt
+strcasecmp
+acontenttype
+multipartmixedreplace
+nscrt
+strcasecmp
+acontenttype
+multipartmixed
+nscrt
+strcasecmp
+acontenttype
+multipartbyteranges
+rv
+insertconverter
+acontenttype
+nssucceeded
+rv
+mconvertercontenttype
+adopt
+nscrt
+strdup
+acontenttype
+rv
+nsimethodimp
+nsurlfetcher
+getparentcontentlistener
+nsiuricontentlistener
+aparent
+aparent
+nsnull
+nsok
+nsimethodimp
+nsurlfetcher
+setparentcontentlistener
+nsiuricontentlistener
+aparent
+nsok
+nsimethodimp
+nsurlfetcher
+getloadcookie
+nsisupports
+aloadcookie
+aloadcookie
+mloadcookie
+nsifaddref
+aloadcookie
+nsok
+nsimethodimp
+nsurlfetcher
+setloadcookie
+nsisupports
+aloadcookie
+mloadcookie
+nscomptr
+nsiwebprogress
+webprogress
+doqueryinterface
+mloadcookie
+webprogress
+webprogress
+removeprogresslistener
+mloadcookie
+aloadcookie
+mloadcookie
+nscomptr
+nsiwebprogress
+webprogress
+doqueryinterface
+mloadcookie
+webprogress
+webprogress
+addprogresslistener
+nsiwebprogress
+notifystateall
+nsok
+nsresult
+nsurlfetcher
+stillrunning
+prbool
+running
+running
+mstillrunning
+nsok
+nsresult
+nsurlfetcher
+ondataavailable
+nsirequest
+request
+nsisupports
+ctxt
+nsiinputstream
+aistream
+pruint
+sourceoffset
+pruint
+alength
+mconverter
+nserrorfailure
+mconverter
+ondataavailable
+request
+ctxt
+aistream
+sourceoffset
+alength
+nsresult
+nsurlfetcher
+onstartrequest
+nsirequest
+request
+nsisupports
+ctxt
+nsmsgattachmenthandler
+attachmenthdl
+nsmsgattachmenthandler
+mtagdata
+attachmenthdl
+nscomptr
+nsimsgsend
+sendptr
+attachmenthdl
+getmimedeliverystate
+getteraddrefs
+sendptr
+sendptr
+nscomptr
+nsimsgprogress
+progress
+sendptr
+getprogress
+getteraddrefs
+progress
+progress
+prbool
+cancel
+prfalse
+progress
+getprocesscanceledbyuser
+cancel
+cancel
+request
+cancel
+nserrorabort
+attachmenthdl
+mrequest
+request
+mconverter
+mconverter
+onstartrequest
+request
+ctxt
+nsok
+nsresult
+nsurlfetcher
+onstoprequest
+nsirequest
+request
+nsisupports
+ctxt
+nsresult
+astatus
+defined
+debugducarroz
+printf
+nsurlfetcher
+onstoprequest
+endif
+nsresult
+rv
+nsok
+monstoprequestprocessed
+nsok
+monstoprequestprocessed
+prtrue
+mconverter
+rv
+mconverter
+onstoprequest
+request
+ctxt
+astatus
+nsmsgattachmenthandler
+attachmenthdl
+nsmsgattachmenthandler
+mtagdata
+attachmenthdl
+attachmenthdl
+mrequest
+nsnull
+mstillrunning
+prfalse
+moutstream
+moutstream
+close
+moutstream
+nsnull
+plstrcasecmp
+mconvertercontenttype
+multipartmixedreplace
+print
+filesize
+llil
+filesize
+mtotalwritten
+mlocalfile
+setfilesize
+filesize
+mcallback
+mcallback
+astatus
+mcontenttype
+mcharset
+mtotalwritten
+nsnull
+mtagdata
+nsok
+nsresult
+nsurlfetcher
+initialize
+nsilocalfile
+localfile
+nsifileoutputstream
+outputstream
+nsattachsavecompletioncallback
+cb
+tagdata
+outputstream
+localfile
+nserrorinvalidarg
+moutstream
+outputstream
+mlocalfile
+localfile
+mcallback
+cb
+mtagdata
+tagdata
+nsok
+nsresult
+nsurlfetcher
+fireurlrequest
+nsiuri
+aurl
+nsilocalfile
+localfile
+nsifileoutputstream
+outputstream
+nsattachsavecompletioncallback
+cb
+tagdata
+nsresult
+rv
+rv
+initialize
+localfile
+outputstream
+cb
+tagdata
+nsensuresuccess
+rv
+rv
+aurl
+schemeis
+file
+misfile
+monstoprequestprocessed
+prfalse
+nscomptr
+nsiuriloader
+puriloader
+dogetservice
+nsuriloadercontractid
+nsensuretrue
+puriloader
+nserrorfailure
+nscomptr
+nsisupports
+cntlistener
+doqueryinterface
+nsstaticcast
+nsistreamlistener
+nscomptr
+nsichannel
+channel
+nscomptr
+nsiloadgroup
+loadgroup
+puriloader
+getloadgroupforcontext
+cntlistener
+getteraddrefs
+loadgroup
+nsensuresuccess
+nsnewchannel
+getteraddrefs
+channel
+aurl
+nsnull
+loadgroup
+nserrorfailure
+rv
+puriloader
+openuri
+channel
+prfalse
+cntlistener
+nsok
+nsresult
+nsurlfetcher
+insertconverter
+acontenttype
+nsresult
+rv
+nscomptr
+nsistreamconverterservice
+convserv
+dogetservice
+streamconverters
+rv
+nssucceeded
+rv
+nscomptr
+nsistreamlistener
+tolistener
+mconverter
+nscomptr
+nsistreamlistener
+fromlistener
+nsautostring
+contenttype
+contenttype
+assignwithconversion
+acontenttype
+rv
+convserv
+asyncconvertdata
+contenttype
+get
+nsliteralstring
+get
+tolistener
+nsnull
+getteraddrefs
+fromlistener
+nssucceeded
+rv
+mconverter
+fromlistener
+rv
+nsimethodimp
+nsurlfetcher
+onprogresschange
+nsiwebprogress
+aprogress
+nsirequest
+arequest
+print
+acurselfprogress
+print
+amaxselfprogress
+print
+acurtotalprogress
+print
+amaxtotalprogress
+nsok
+nsimethodimp
+nsurlfetcher
+onstatechange
+nsiwebprogress
+aprogress
+nsirequest
+arequest
+pruint
+astateflags
+nsresult
+astatus
+nsfailed
+astatus
+onstoprequest
+arequest
+nsnull
+astatus
+nsok
+nsimethodimp
+nsurlfetcher
+onlocationchange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+nsiuri
+auri
+nsnotreached
+notification
+excluded
+in
+addprogresslistener
+nsok
+nsimethodimp
+nsurlfetcher
+onstatuschange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+nsresult
+astatus
+prunichar
+amessage
+nsnotreached
+notification
+excluded
+in
+addprogresslistener
+nsok
+nsimethodimp
+nsurlfetcher
+onsecuritychange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+pruint
+state
+nsnotreached
+notification
+excluded
+in
+addprogresslistener
+nsok
+nsimplisupports
+nsurlfetcherstreamconsumer
+nsistreamlistener
+nsirequestobserver
+nsurlfetcherstreamconsumer
+nsurlfetcherstreamconsumer
+nsurlfetcher
+urlfetcher
+murlfetcher
+urlfetcher
+defined
+debugducarroz
+printf
+create
+nsurlfetcherstreamconsumer
+endif
+nsurlfetcherstreamconsumer
+nsurlfetcherstreamconsumer
+defined
+debugducarroz
+printf
+dispose
+nsurlfetcherstreamconsumer
+endif
+nsimethodimp
+nsurlfetcherstreamconsumer
+onstartrequest
+nsirequest
+arequest
+nsisupports
+ctxt
+murlfetcher
+murlfetcher
+moutstream
+nserrorfailure
+plstrcasecmp
+murlfetcher
+mconvertercontenttype
+multipartmixedreplace
+nscomptr
+nsiseekablestream
+seekstream
+doqueryinterface
+murlfetcher
+moutstream
+seekstream
+seekstream
+seek
+nsiseekablestream
+nsseekset
+murlfetcher
+mtotalwritten
+nsok
+nsimethodimp
+nsurlfetcherstreamconsumer
+onstoprequest
+nsirequest
+arequest
+nsisupports
+ctxt
+nsresult
+status
+murlfetcher
+nserrorfailure
+nscautostring
+contenttype
+nscautostring
+charset
+nscomptr
+nsichannel
+achannel
+doqueryinterface
+arequest
+achannel
+nserrorfailure
+nssucceeded
+achannel
+getcontenttype
+contenttype
+contenttype
+equals
+nsliteralcstring
+unknowncontenttype
+murlfetcher
+mcontenttype
+contenttype
+nssucceeded
+achannel
+getcontentcharset
+charset
+charset
+isempty
+murlfetcher
+mcharset
+charset
+nsok
+nsimethodimp
+nsurlfetcherstreamconsumer
+ondataavailable
+nsirequest
+arequest
+nsisupports
+ctxt
+nsiinputstream
+instr
+pruint
+sourceoffset
+pruint
+count
+pruint
+readlen
+count
+pruint
+wroteit
+murlfetcher
+nserrorfailure
+murlfetcher
+moutstream
+nserrorinvalidarg
+murlfetcher
+mbuffersize
+count
+prfreeif
+murlfetcher
+mbuffer
+count
+murlfetcher
+mbuffersize
+count
+murlfetcher
+mbuffersize
+murlfetcher
+mbuffer
+prmalloc
+murlfetcher
+mbuffersize
+murlfetcher
+mbuffer
+nserroroutofmemory
+nsresult
+rv
+instr
+read
+murlfetcher
+mbuffer
+count
+readlen
+nsfailed
+rv
+rv
+murlfetcher
+moutstream
+write
+murlfetcher
+mbuffer
+readlen
+wroteit
+wroteit
+readlen
+nserrorfailure
+murlfetcher
+mtotalwritten
+wroteit
+nsok
\ No newline at end of file
@@ -0,0 +1,75 @@
+msgcore
+nscomptr
+nsimodule
+nsigenericfactory
+nsmsgdbcid
+nsmaildatabase
+nsnewsdatabase
+nsimapmaildatabase
+nsdefinecid
+kcomponentmanagercid
+nscomponentmanagercid
+nsdefinecid
+kcmaildb
+nsmaildbcid
+nsdefinecid
+kcnewsdb
+nsnewsdbcid
+nsdefinecid
+kcimapdb
+nsimapdbcid
+nsdefinecid
+kcmsgretentionsettings
+nsmsgretentionsettingscid
+nsdefinecid
+kcmsgdownloadsettings
+nsmsgdownloadsettingscid
+nsgenericfactoryconstructor
+nsmaildatabase
+nsgenericfactoryconstructor
+nsnewsdatabase
+nsgenericfactoryconstructor
+nsimapmaildatabase
+nsgenericfactoryconstructor
+nsmsgretentionsettings
+nsgenericfactoryconstructor
+nsmsgdownloadsettings
+nsmodulecomponentinfo
+msgdbcomponents
+mail
+db
+nsmaildbcid
+nsnull
+nsmaildatabaseconstructor
+news
+db
+nsnewsdbcid
+nsnull
+nsnewsdatabaseconstructor
+imap
+db
+nsimapdbcid
+nsnull
+nsimapmaildatabaseconstructor
+msg
+retention
+settings
+nsmsgretentionsettingscid
+nsmsgretentionsettingscontractid
+nsmsgretentionsettingsconstructor
+msg
+download
+settings
+nsmsgdownloadsettingscid
+nsmsgdownloadsettingscontractid
+nsmsgdownloadsettingsconstructor
+prstaticcallback
+msgdbmoduledtor
+nsimodule
+self
+nsmsgdatabase
+cleanupcache
+nsimplnsgetmodulewithdtor
+nsmsgdbmodule
+msgdbcomponents
+msgdbmoduledtor nsresult
\ No newline at end of file
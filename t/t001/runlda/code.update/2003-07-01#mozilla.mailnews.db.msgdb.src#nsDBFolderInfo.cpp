@@ -0,0 +1,1810 @@
+msgcore
+nsdbfolderinfo
+nsmsgdatabase
+nsmsgfolderflags
+nsiprefservice
+nsiprefbranch
+nsiprefbranchinternal
+nsipreflocalizedstring
+nsiobserver
+nsiobserverservice
+nsimsgdbview
+nsreadableutils
+nsisupportsobsolete
+kdbfolderinfoscope
+ns
+msg
+db
+row
+scope
+dbfolderinfo
+all
+kdbfolderinfotablekind
+ns
+msg
+db
+table
+kind
+dbfolderinfo
+mdboid
+gdbfolderinfooid
+knumvisiblemessagescolumnname
+numvismsgs
+knummessagescolumnname
+nummsgs
+knumnewmessagescolumnname
+numnewmsgs
+kflagscolumnname
+flags
+kfoldersizecolumnname
+foldersize
+kexpungedbytescolumnname
+expungedbytes
+kfolderdatecolumnname
+folderdate
+khighwatermessagekeycolumnname
+highwaterkey
+kimapuidvaliditycolumnname
+uidvalidity
+ktotalpendingmessagescolumnname
+totpendingmsgs
+kunreadpendingmessagescolumnname
+unreadpendingmsgs
+kmailboxnamecolumnname
+mailboxname
+kknownartssetcolumnname
+knownarts
+kexpiredmarkcolumnname
+expiredmark
+kversioncolumnname
+version
+kcharactersetcolumnname
+charset
+kcharactersetoverridecolumnname
+charsetoverride
+klocalecolumnname
+locale
+define
+kmailnewsviewdefaultcharset
+mailnews
+viewdefaultcharset
+define
+kmailnewsdefaultcharsetoverride
+mailnews
+forcecharsetoverride
+nscstring
+gdefaultcharacterset
+prbool
+gdefaultcharacteroverride
+nsiobserver
+gfoldercharsetobserver
+nsnull
+prbool
+ginitializeobserver
+prfalse
+prbool
+greleaseobserver
+prfalse
+nsfoldercharsetobserver
+nsiobserver
+nsdeclisupports
+nsdeclnsiobserver
+nsfoldercharsetobserver
+nsfoldercharsetobserver
+nsimplisupports
+nsfoldercharsetobserver
+nsiobserver
+nsimethodimp
+nsfoldercharsetobserver
+observe
+nsisupports
+asubject
+atopic
+prunichar
+somedata
+nsresult
+rv
+nscomptr
+nsiprefservice
+prefs
+dogetservice
+nsprefservicecontractid
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+rv
+prefs
+getbranch
+nsnull
+getteraddrefs
+prefbranch
+nsensuresuccess
+rv
+rv
+nscrt
+strcmp
+atopic
+nsprefbranchprefchangetopicid
+nsdependentstring
+prefname
+somedata
+prefname
+equals
+nsliteralstring
+kmailnewsviewdefaultcharset
+nscomptr
+nsipreflocalizedstring
+pls
+rv
+prefbranch
+getcomplexvalue
+kmailnewsviewdefaultcharset
+nsgetiid
+nsipreflocalizedstring
+getteraddrefs
+pls
+nssucceeded
+rv
+nsxpidlstring
+ucsval
+pls
+tostring
+gettercopies
+ucsval
+ucsval
+gdefaultcharacterset
+assignwithconversion
+ucsval
+get
+prefname
+equals
+nsliteralstring
+kmailnewsdefaultcharsetoverride
+rv
+prefbranch
+getboolpref
+kmailnewsdefaultcharsetoverride
+gdefaultcharacteroverride
+nscrt
+strcmp
+atopic
+nsxpcomshutdownobserverid
+nscomptr
+nsiprefbranchinternal
+pbi
+doqueryinterface
+prefbranch
+pbi
+rv
+pbi
+removeobserver
+kmailnewsviewdefaultcharset
+rv
+pbi
+removeobserver
+kmailnewsdefaultcharsetoverride
+greleaseobserver
+prtrue
+rv
+nsimpladdref
+nsdbfolderinfo
+nsimplrelease
+nsdbfolderinfo
+nsimethodimp
+nsdbfolderinfo
+queryinterface
+refnsiid
+iid
+result
+result
+nserrornullpointer
+result
+nsnull
+iid
+equals
+nsgetiid
+nsidbfolderinfo
+iid
+equals
+nsgetiid
+nsisupports
+result
+nsstaticcast
+nsidbfolderinfo
+addref
+nsok
+nsnointerface
+nsdbfolderinfo
+nsdbfolderinfo
+nsmsgdatabase
+mdb
+mflags
+mexpiredmark
+mnumvisiblemessagescolumntoken
+mexpiredmarkcolumntoken
+mmdbtable
+mmdbrow
+mversion
+mimaphierarchyseparator
+mfoldersize
+mfolderdate
+mexpungedbytes
+mhighwatermessagekey
+mnumnewmessages
+mnummessages
+mnumvisiblemessages
+mimapuidvalidity
+mtotalpendingmessages
+munreadpendingmessages
+mmdbtokensinitialized
+prfalse
+mcharsetoverride
+prfalse
+ginitializeobserver
+ginitializeobserver
+prtrue
+nsresult
+rv
+nscomptr
+nsiprefservice
+prefs
+dogetservice
+nsprefservicecontractid
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+nssucceeded
+rv
+rv
+prefs
+getbranch
+nsnull
+getteraddrefs
+prefbranch
+nssucceeded
+rv
+nscomptr
+nsipreflocalizedstring
+pls
+rv
+prefbranch
+getcomplexvalue
+kmailnewsviewdefaultcharset
+nsgetiid
+nsipreflocalizedstring
+getteraddrefs
+pls
+nssucceeded
+rv
+nsxpidlstring
+ucsval
+pls
+tostring
+gettercopies
+ucsval
+ucsval
+gdefaultcharacterset
+assignwithconversion
+ucsval
+get
+rv
+prefbranch
+getboolpref
+kmailnewsdefaultcharsetoverride
+gdefaultcharacteroverride
+gfoldercharsetobserver
+nsfoldercharsetobserver
+nsassertion
+gfoldercharsetobserver
+failed
+to
+create
+observer
+gfoldercharsetobserver
+nsaddref
+gfoldercharsetobserver
+nscomptr
+nsiprefbranchinternal
+pbi
+doqueryinterface
+prefbranch
+pbi
+rv
+pbi
+addobserver
+kmailnewsviewdefaultcharset
+gfoldercharsetobserver
+prfalse
+rv
+pbi
+addobserver
+kmailnewsdefaultcharsetoverride
+gfoldercharsetobserver
+prfalse
+nscomptr
+nsiobserverservice
+observerservice
+dogetservice
+observer
+service
+rv
+nssucceeded
+rv
+rv
+observerservice
+addobserver
+gfoldercharsetobserver
+nsxpcomshutdownobserverid
+prfalse
+mmdb
+mdb
+mdb
+mdberr
+err
+err
+mmdb
+getstore
+stringtotoken
+mdb
+getenv
+kdbfolderinfoscope
+mrowscopetoken
+err
+nsok
+err
+mmdb
+getstore
+stringtotoken
+mdb
+getenv
+kdbfolderinfotablekind
+mtablekindtoken
+err
+nsok
+gdbfolderinfooid
+moidscope
+mrowscopetoken
+gdbfolderinfooid
+moidid
+initmdbinfo
+nsdbfolderinfo
+nsdbfolderinfo
+releaseexternalreferences
+nsdbfolderinfo
+releaseexternalreferences
+greleaseobserver
+nsifrelease
+gfoldercharsetobserver
+mmdb
+mmdbtable
+nsrelease
+mmdbtable
+mmdbtable
+nsnull
+mmdbrow
+nsrelease
+mmdbrow
+mmdbrow
+nsnull
+mmdb
+nsnull
+nsresult
+nsdbfolderinfo
+addtonewmdb
+nsresult
+ret
+nsok
+mmdb
+mmdb
+getstore
+nsimdbstore
+store
+mmdb
+getstore
+mdberr
+err
+store
+newtable
+mmdb
+getenv
+mrowscopetoken
+mtablekindtoken
+prtrue
+nsnull
+mmdbtable
+mdboid
+folderinfotableoid
+folderinfotableoid
+moidid
+folderinfotableoid
+moidscope
+mrowscopetoken
+err
+store
+newrowwithoid
+mmdb
+getenv
+gdbfolderinfooid
+mmdbrow
+mmdbrow
+nssucceeded
+err
+err
+mmdbtable
+addrow
+mmdb
+getenv
+mmdbrow
+ret
+err
+ret
+nsresult
+nsdbfolderinfo
+initfromexistingdb
+nsresult
+ret
+nsok
+mmdb
+mmdb
+getstore
+nsimdbstore
+store
+mmdb
+getstore
+store
+mdbpos
+rowpos
+mdbcount
+outtablecount
+mdbbool
+mustbeunique
+mdbbool
+hasoid
+ret
+store
+gettablekind
+mmdb
+getenv
+mrowscopetoken
+mtablekindtoken
+outtablecount
+mustbeunique
+mmdbtable
+mmdbtable
+ret
+mmdbtable
+hasoid
+mmdb
+getenv
+gdbfolderinfooid
+hasoid
+ret
+nsok
+nsimdbtablerowcursor
+rowcursor
+rowpos
+ret
+mmdbtable
+gettablerowcursor
+mmdb
+getenv
+rowpos
+rowcursor
+ret
+nsok
+ret
+rowcursor
+nextrow
+mmdb
+getenv
+mmdbrow
+rowpos
+nsrelease
+rowcursor
+ret
+nsok
+mmdbrow
+loadmembervariables
+ret
+nsresult
+nsdbfolderinfo
+initmdbinfo
+nsresult
+ret
+nsok
+mmdbtokensinitialized
+mmdb
+mmdb
+getstore
+nsimdbstore
+store
+mmdb
+getstore
+nsimdbenv
+env
+mmdb
+getenv
+store
+stringtotoken
+env
+knumvisiblemessagescolumnname
+mnumvisiblemessagescolumntoken
+store
+stringtotoken
+env
+knummessagescolumnname
+mnummessagescolumntoken
+store
+stringtotoken
+env
+knumnewmessagescolumnname
+mnumnewmessagescolumntoken
+store
+stringtotoken
+env
+kflagscolumnname
+mflagscolumntoken
+store
+stringtotoken
+env
+kfoldersizecolumnname
+mfoldersizecolumntoken
+store
+stringtotoken
+env
+kexpungedbytescolumnname
+mexpungedbytescolumntoken
+store
+stringtotoken
+env
+kfolderdatecolumnname
+mfolderdatecolumntoken
+store
+stringtotoken
+env
+khighwatermessagekeycolumnname
+mhighwatermessagekeycolumntoken
+store
+stringtotoken
+env
+kmailboxnamecolumnname
+mmailboxnamecolumntoken
+store
+stringtotoken
+env
+kimapuidvaliditycolumnname
+mimapuidvaliditycolumntoken
+store
+stringtotoken
+env
+ktotalpendingmessagescolumnname
+mtotalpendingmessagescolumntoken
+store
+stringtotoken
+env
+kunreadpendingmessagescolumnname
+munreadpendingmessagescolumntoken
+store
+stringtotoken
+env
+kexpiredmarkcolumnname
+mexpiredmarkcolumntoken
+store
+stringtotoken
+env
+kversioncolumnname
+mversioncolumntoken
+mmdbtokensinitialized
+prtrue
+ret
+nsresult
+nsdbfolderinfo
+loadmembervariables
+nsresult
+ret
+nsok
+getintpropertywithtoken
+mnumvisiblemessagescolumntoken
+mnumvisiblemessages
+getintpropertywithtoken
+mnummessagescolumntoken
+mnummessages
+getintpropertywithtoken
+mnumnewmessagescolumntoken
+mnumnewmessages
+getintpropertywithtoken
+mflagscolumntoken
+mflags
+getintpropertywithtoken
+mfoldersizecolumntoken
+mfoldersize
+getintpropertywithtoken
+mfolderdatecolumntoken
+print
+mfolderdate
+getintpropertywithtoken
+mimapuidvaliditycolumntoken
+mimapuidvalidity
+getintpropertywithtoken
+mexpiredmarkcolumntoken
+print
+mexpiredmark
+getintpropertywithtoken
+mexpungedbytescolumntoken
+print
+mexpungedbytes
+getintpropertywithtoken
+mhighwatermessagekeycolumntoken
+print
+mhighwatermessagekey
+print
+version
+getintpropertywithtoken
+mversioncolumntoken
+version
+mversion
+pruint
+version
+mcharsetoverride
+gdefaultcharacteroverride
+pruint
+propertyvalue
+nsresult
+rv
+getuintproperty
+kcharactersetoverridecolumnname
+propertyvalue
+gdefaultcharacteroverride
+nssucceeded
+rv
+mcharsetoverride
+propertyvalue
+nsxpidlcstring
+charset
+nssucceeded
+mmdb
+getproperty
+mmdbrow
+kcharactersetcolumnname
+gettercopies
+charset
+mcharset
+charset
+ret
+nsimethodimp
+nsdbfolderinfo
+setversion
+pruint
+version
+mversion
+version
+setuintpropertywithtoken
+mversioncolumntoken
+pruint
+mversion
+nsimethodimp
+nsdbfolderinfo
+getversion
+pruint
+version
+version
+mversion
+nsok
+nsimethodimp
+nsdbfolderinfo
+sethighwater
+nsmsgkey
+highwater
+prbool
+force
+force
+mhighwatermessagekey
+highwater
+mhighwatermessagekey
+highwater
+nsok
+nsimethodimp
+nsdbfolderinfo
+sethighwater
+nsmsgkey
+highwater
+sethighwater
+highwater
+prtrue
+nsimethodimp
+nsdbfolderinfo
+getfoldersize
+pruint
+size
+size
+nserrornullpointer
+size
+mfoldersize
+nsok
+nsimethodimp
+nsdbfolderinfo
+setfoldersize
+pruint
+size
+mfoldersize
+size
+setuintpropertywithtoken
+mfoldersizecolumntoken
+mfoldersize
+nsimethodimp
+nsdbfolderinfo
+getfolderdate
+pruint
+folderdate
+folderdate
+nserrornullpointer
+folderdate
+mfolderdate
+nsok
+nsimethodimp
+nsdbfolderinfo
+setfolderdate
+pruint
+folderdate
+mfolderdate
+folderdate
+setuintpropertywithtoken
+mfolderdatecolumntoken
+folderdate
+nsimethodimp
+nsdbfolderinfo
+gethighwater
+nsmsgkey
+result
+result
+mhighwatermessagekey
+nsok
+nsimethodimp
+nsdbfolderinfo
+setexpiredmark
+nsmsgkey
+expiredkey
+mexpiredmark
+expiredkey
+setuintpropertywithtoken
+mexpiredmarkcolumntoken
+expiredkey
+nsimethodimp
+nsdbfolderinfo
+getexpiredmark
+nsmsgkey
+result
+result
+mexpiredmark
+nsok
+nsimethodimp
+nsdbfolderinfo
+changeexpungedbytes
+print
+delta
+setexpungedbytes
+mexpungedbytes
+delta
+prbool
+nsdbfolderinfo
+addlaterkey
+nsmsgkey
+key
+prtime
+until
+prfalse
+print
+nsdbfolderinfo
+getnumlatered
+nsmsgkey
+nsdbfolderinfo
+getlateredat
+print
+laterindex
+prtime
+puntil
+nsmsgkeynone
+nsdbfolderinfo
+removelateredat
+print
+laterindex
+nsimethodimp
+nsdbfolderinfo
+setmailboxname
+nsstring
+newboxname
+setpropertywithtoken
+mmailboxnamecolumntoken
+newboxname
+nsimethodimp
+nsdbfolderinfo
+getmailboxname
+nsstring
+boxname
+getpropertywithtoken
+mmailboxnamecolumntoken
+boxname
+nsimethodimp
+nsdbfolderinfo
+changenumnewmessages
+print
+delta
+mnumnewmessages
+delta
+mnumnewmessages
+ifdef
+debugbienvenu
+nsassertion
+prfalse
+hardcoded
+assertion
+endif
+mnumnewmessages
+setuintpropertywithtoken
+mnumnewmessagescolumntoken
+mnumnewmessages
+nsimethodimp
+nsdbfolderinfo
+changenummessages
+print
+delta
+mnummessages
+delta
+mnummessages
+ifdef
+debugbienvenu
+nsassertion
+prfalse
+num
+messages
+can
+be
+endif
+mnummessages
+setuintpropertywithtoken
+mnummessagescolumntoken
+mnummessages
+nsimethodimp
+nsdbfolderinfo
+changenumvisiblemessages
+print
+delta
+mnumvisiblemessages
+delta
+mnumvisiblemessages
+ifdef
+debugbienvenu
+nsassertion
+prfalse
+num
+visible
+messages
+can
+be
+endif
+mnumvisiblemessages
+setuintpropertywithtoken
+mnumvisiblemessagescolumntoken
+mnumvisiblemessages
+nsimethodimp
+nsdbfolderinfo
+getnumnewmessages
+print
+result
+result
+mnumnewmessages
+nsok
+nsimethodimp
+nsdbfolderinfo
+setnumnewmessages
+print
+numnewmessages
+mnumnewmessages
+numnewmessages
+setuintpropertywithtoken
+mnumnewmessagescolumntoken
+mnumnewmessages
+nsimethodimp
+nsdbfolderinfo
+getnummessages
+print
+result
+result
+mnummessages
+nsok
+nsimethodimp
+nsdbfolderinfo
+setnummessages
+print
+nummessages
+mnummessages
+nummessages
+setuintpropertywithtoken
+mnummessagescolumntoken
+mnummessages
+nsimethodimp
+nsdbfolderinfo
+getnumvisiblemessages
+print
+result
+result
+mnumvisiblemessages
+nsok
+nsimethodimp
+nsdbfolderinfo
+setnumvisiblemessages
+print
+numvisiblemessages
+mnumvisiblemessages
+numvisiblemessages
+setuintpropertywithtoken
+mnumvisiblemessagescolumntoken
+mnumvisiblemessages
+nsimethodimp
+nsdbfolderinfo
+getexpungedbytes
+print
+result
+result
+mexpungedbytes
+nsok
+nsimethodimp
+nsdbfolderinfo
+setexpungedbytes
+print
+expungedbytes
+mexpungedbytes
+expungedbytes
+setuintpropertywithtoken
+mexpungedbytescolumntoken
+mexpungedbytes
+nsimethodimp
+nsdbfolderinfo
+getflags
+print
+result
+result
+mflags
+nsok
+nsimethodimp
+nsdbfolderinfo
+setflags
+print
+flags
+nsresult
+ret
+nsok
+mflags
+flags
+nsassertion
+mflags
+msgfolderflaginbox
+flags
+msgfolderflaginbox
+lost
+inbox
+flag
+mflags
+flags
+ret
+setintpropertywithtoken
+mflagscolumntoken
+mflags
+ret
+nsimethodimp
+nsdbfolderinfo
+orflags
+print
+flags
+print
+result
+mflags
+flags
+result
+mflags
+setintpropertywithtoken
+mflagscolumntoken
+mflags
+nsimethodimp
+nsdbfolderinfo
+andflags
+print
+flags
+print
+result
+mflags
+flags
+result
+mflags
+setintpropertywithtoken
+mflagscolumntoken
+mflags
+nsimethodimp
+nsdbfolderinfo
+getimapuidvalidity
+print
+result
+result
+mimapuidvalidity
+nsok
+nsimethodimp
+nsdbfolderinfo
+setimapuidvalidity
+print
+uidvalidity
+mimapuidvalidity
+uidvalidity
+setuintpropertywithtoken
+mimapuidvaliditycolumntoken
+mimapuidvalidity
+prbool
+nsdbfolderinfo
+testflag
+print
+flags
+mflags
+flags
+nsimethodimp
+nsdbfolderinfo
+getcharacterset
+nsstring
+result
+prbool
+useddefault
+nsresult
+rv
+getproperty
+kcharactersetcolumnname
+result
+useddefault
+prfalse
+nssucceeded
+rv
+result
+isempty
+result
+assignwithconversion
+gdefaultcharacterset
+get
+useddefault
+prtrue
+rv
+nsresult
+nsdbfolderinfo
+getconstcharptrcharacterset
+result
+mcharset
+isempty
+result
+mcharset
+get
+result
+gdefaultcharacterset
+get
+nsok
+nsimethodimp
+nsdbfolderinfo
+getcharptrcharacterset
+result
+result
+tonewcstring
+mcharset
+result
+nsnull
+result
+prfreeif
+result
+result
+tonewcstring
+gdefaultcharacterset
+result
+nsok
+nserroroutofmemory
+nsimethodimp
+nsdbfolderinfo
+setcharacterset
+prunichar
+charset
+mcharset
+assignwithconversion
+charset
+mmdb
+setproperty
+mmdbrow
+kcharactersetcolumnname
+mcharset
+get
+nsimethodimp
+nsdbfolderinfo
+getcharactersetoverride
+prbool
+charactersetoverride
+charactersetoverride
+mcharsetoverride
+nsok
+nsimethodimp
+nsdbfolderinfo
+setcharactersetoverride
+prbool
+charactersetoverride
+mcharsetoverride
+charactersetoverride
+setuintproperty
+kcharactersetoverridecolumnname
+charactersetoverride
+nsimethodimp
+nsdbfolderinfo
+getlocale
+nsstring
+result
+getproperty
+klocalecolumnname
+result
+nsok
+nsimethodimp
+nsdbfolderinfo
+setlocale
+nsstring
+locale
+setproperty
+klocalecolumnname
+locale
+nsimethodimp
+nsdbfolderinfo
+getimaphierarchyseparator
+prunichar
+hierarchyseparator
+hierarchyseparator
+nserrornullpointer
+hierarchyseparator
+mimaphierarchyseparator
+nsok
+nsimethodimp
+nsdbfolderinfo
+setimaphierarchyseparator
+prunichar
+hierarchyseparator
+mimaphierarchyseparator
+hierarchyseparator
+nsok
+nsimethodimp
+nsdbfolderinfo
+getimaptotalpendingmessages
+print
+result
+result
+nserrornullpointer
+result
+mtotalpendingmessages
+nsok
+nsdbfolderinfo
+changeimaptotalpendingmessages
+print
+delta
+mtotalpendingmessages
+delta
+setintpropertywithtoken
+mtotalpendingmessagescolumntoken
+mtotalpendingmessages
+nsimethodimp
+nsdbfolderinfo
+getimapunreadpendingmessages
+print
+result
+result
+nserrornullpointer
+result
+munreadpendingmessages
+nsok
+nsimethodimp
+nsdbfolderinfo
+setimapunreadpendingmessages
+print
+numunreadpendingmessages
+munreadpendingmessages
+numunreadpendingmessages
+setuintpropertywithtoken
+munreadpendingmessagescolumntoken
+munreadpendingmessages
+nsimethodimp
+nsdbfolderinfo
+setimaptotalpendingmessages
+print
+numtotalpendingmessages
+mtotalpendingmessages
+numtotalpendingmessages
+setuintpropertywithtoken
+mtotalpendingmessagescolumntoken
+mtotalpendingmessages
+nsdbfolderinfo
+changeimapunreadpendingmessages
+print
+delta
+munreadpendingmessages
+delta
+setintpropertywithtoken
+munreadpendingmessagescolumntoken
+munreadpendingmessages
+nsimethodimp
+nsdbfolderinfo
+getviewtype
+nsmsgviewtypevalue
+aviewtype
+pruint
+viewtypevalue
+nsresult
+rv
+getuintproperty
+viewtype
+viewtypevalue
+nsmsgviewtype
+eshowallthreads
+aviewtype
+viewtypevalue
+rv
+nsimethodimp
+nsdbfolderinfo
+setviewtype
+nsmsgviewtypevalue
+aviewtype
+setuintproperty
+viewtype
+aviewtype
+nsimethodimp
+nsdbfolderinfo
+getviewflags
+nsmsgviewflagstypevalue
+aviewflags
+nsmsgviewflagstypevalue
+defaultviewflags
+nsresult
+rv
+mmdb
+getdefaultviewflags
+defaultviewflags
+nsensuresuccess
+rv
+rv
+pruint
+viewflagsvalue
+rv
+getuintproperty
+viewflags
+viewflagsvalue
+defaultviewflags
+aviewflags
+viewflagsvalue
+rv
+nsimethodimp
+nsdbfolderinfo
+setviewflags
+nsmsgviewflagstypevalue
+aviewflags
+setuintproperty
+viewflags
+aviewflags
+nsimethodimp
+nsdbfolderinfo
+getsorttype
+nsmsgviewsorttypevalue
+asorttype
+nsmsgviewsorttypevalue
+defaultsorttype
+nsresult
+rv
+mmdb
+getdefaultsorttype
+defaultsorttype
+nsensuresuccess
+rv
+rv
+pruint
+sorttypevalue
+rv
+getuintproperty
+sorttype
+sorttypevalue
+defaultsorttype
+asorttype
+sorttypevalue
+rv
+nsimethodimp
+nsdbfolderinfo
+setsorttype
+nsmsgviewsorttypevalue
+asorttype
+setuintproperty
+sorttype
+asorttype
+nsimethodimp
+nsdbfolderinfo
+getsortorder
+nsmsgviewsortordervalue
+asortorder
+pruint
+sortordervalue
+nsresult
+rv
+getuintproperty
+sortorder
+sortordervalue
+nsmsgviewsortorder
+ascending
+asortorder
+sortordervalue
+rv
+nsimethodimp
+nsdbfolderinfo
+setsortorder
+nsmsgviewsortordervalue
+asortorder
+setuintproperty
+sortorder
+asortorder
+nsimethodimp
+nsdbfolderinfo
+setknownartsset
+newsartset
+mmdb
+setproperty
+mmdbrow
+kknownartssetcolumnname
+newsartset
+nsimethodimp
+nsdbfolderinfo
+getknownartsset
+newsartset
+mmdb
+getproperty
+mmdbrow
+kknownartssetcolumnname
+newsartset
+nsimethodimp
+nsdbfolderinfo
+getproperty
+propertyname
+nsstring
+resultproperty
+mmdb
+getpropertyasnsstring
+mmdbrow
+propertyname
+resultproperty
+nsimethodimp
+nsdbfolderinfo
+setcharptrproperty
+apropertyname
+apropertyvalue
+mmdb
+setproperty
+mmdbrow
+apropertyname
+apropertyvalue
+nsimethodimp
+nsdbfolderinfo
+getcharptrproperty
+propertyname
+resultproperty
+mmdb
+getproperty
+mmdbrow
+propertyname
+resultproperty
+nsimethodimp
+nsdbfolderinfo
+setuintproperty
+propertyname
+pruint
+propertyvalue
+mmdb
+setuintproperty
+mmdbrow
+propertyname
+propertyvalue
+nsimethodimp
+nsdbfolderinfo
+setproperty
+propertyname
+nsstring
+propertystr
+mmdb
+setpropertyfromnsstring
+mmdbrow
+propertyname
+propertystr
+nsresult
+nsdbfolderinfo
+setpropertywithtoken
+mdbtoken
+aproperty
+nsstring
+propertystr
+mmdb
+setnsstringpropertywithtoken
+mmdbrow
+aproperty
+propertystr
+nsresult
+nsdbfolderinfo
+setuintpropertywithtoken
+mdbtoken
+aproperty
+pruint
+propertyvalue
+mmdb
+uinttorowcellcolumn
+mmdbrow
+aproperty
+propertyvalue
+nsresult
+nsdbfolderinfo
+setintpropertywithtoken
+mdbtoken
+aproperty
+print
+propertyvalue
+nsstring
+propertystr
+propertystr
+appendint
+propertyvalue
+setpropertywithtoken
+aproperty
+propertystr
+nsresult
+nsdbfolderinfo
+getpropertywithtoken
+mdbtoken
+aproperty
+nsstring
+resultproperty
+resultproperty
+nserrornullpointer
+mmdb
+rowcellcolumntonsstring
+mmdbrow
+aproperty
+resultproperty
+nsresult
+nsdbfolderinfo
+getuintpropertywithtoken
+mdbtoken
+aproperty
+pruint
+propertyvalue
+pruint
+defaultvalue
+mmdb
+rowcellcolumntouint
+mmdbrow
+aproperty
+propertyvalue
+defaultvalue
+nsresult
+nsdbfolderinfo
+getintpropertywithtoken
+mdbtoken
+aproperty
+print
+propertyvalue
+print
+defaultvalue
+mmdb
+rowcellcolumntouint
+mmdbrow
+aproperty
+pruint
+propertyvalue
+defaultvalue
+nsimethodimp
+nsdbfolderinfo
+getuintproperty
+propertyname
+pruint
+propertyvalue
+pruint
+defaultvalue
+mmdb
+getuintproperty
+mmdbrow
+propertyname
+propertyvalue
+defaultvalue
+nsimethodimp
+nsdbfolderinfo
+getbooleanproperty
+propertyname
+prbool
+propertyvalue
+prbool
+defaultvalue
+pruint
+defaultuintvalue
+defaultvalue
+pruint
+returnvalue
+nsresult
+rv
+mmdb
+getuintproperty
+mmdbrow
+propertyname
+returnvalue
+defaultuintvalue
+propertyvalue
+returnvalue
+rv
+nsimethodimp
+nsdbfolderinfo
+setbooleanproperty
+propertyname
+prbool
+propertyvalue
+mmdb
+setuintproperty
+mmdbrow
+propertyname
+propertyvalue
+nsimethodimp
+nsdbfolderinfo
+getfoldername
+foldername
+getcharptrproperty
+foldername
+foldername
+nsimethodimp
+nsdbfolderinfo
+setfoldername
+foldername
+setcharptrproperty
+foldername
+foldername
+nstransferdbfolderinfo
+nsdbfolderinfo
+nstransferdbfolderinfo
+nstransferdbfolderinfo
+nsimethod
+getmailboxname
+nsstring
+boxname
+nsimethod
+setmailboxname
+nsstring
+boxname
+nsimethod
+getviewtype
+nsmsgviewtypevalue
+aviewtype
+nsimethod
+setviewtype
+nsmsgviewtypevalue
+aviewtype
+nsimethod
+getviewflags
+nsmsgviewflagstypevalue
+aviewflags
+nsimethod
+setviewflags
+nsmsgviewflagstypevalue
+aviewflags
+nsimethod
+getsorttype
+nsmsgviewsorttypevalue
+asorttype
+nsimethod
+setsorttype
+nsmsgviewsorttypevalue
+asorttype
+nsimethod
+getsortorder
+nsmsgviewsortordervalue
+asortorder
+nsimethod
+setsortorder
+nsmsgviewsortordervalue
+asortorder
+nsimethod
+getfoldername
+foldername
+nsimethod
+setfoldername
+foldername
+nsstring
+mboxname
+nscstring
+mfoldername
+nsmsgviewtypevalue
+mviewtype
+nsmsgviewflagstypevalue
+mviewflags
+nsmsgviewsorttypevalue
+msorttype
+nsmsgviewsortordervalue
+msortorder
+nstransferdbfolderinfo
+nstransferdbfolderinfo
+nsdbfolderinfo
+nsnull
+nstransferdbfolderinfo
+nstransferdbfolderinfo
+nsimethodimp
+nsdbfolderinfo
+gettransferinfo
+nsidbfolderinfo
+transferinfo
+nsensureargpointer
+transferinfo
+nsautostring
+foldernamestr
+nstransferdbfolderinfo
+newinfo
+nstransferdbfolderinfo
+transferinfo
+newinfo
+nsaddref
+newinfo
+newinfo
+mflags
+mflags
+getmailboxname
+foldernamestr
+newinfo
+setmailboxname
+foldernamestr
+nsmsgviewtypevalue
+viewtype
+nsmsgviewflagstypevalue
+viewflags
+nsmsgviewsorttypevalue
+sorttype
+nsmsgviewsortordervalue
+sortorder
+getviewtype
+viewtype
+getviewflags
+viewflags
+getsorttype
+sorttype
+getsortorder
+sortorder
+newinfo
+setviewtype
+viewtype
+newinfo
+setviewflags
+viewflags
+newinfo
+setsorttype
+sorttype
+newinfo
+setsortorder
+sortorder
+nsxpidlcstring
+utfname
+getfoldername
+gettercopies
+utfname
+newinfo
+setfoldername
+utfname
+get
+nsok
+nsimethodimp
+nstransferdbfolderinfo
+setfoldername
+foldername
+nsensureargpointer
+foldername
+mfoldername
+foldername
+nsok
+nsimethodimp
+nstransferdbfolderinfo
+getfoldername
+foldername
+nsensureargpointer
+foldername
+foldername
+tonewcstring
+mfoldername
+nsok
+nsimethodimp
+nstransferdbfolderinfo
+getmailboxname
+nsstring
+boxname
+boxname
+mboxname
+nsok
+nsimethodimp
+nstransferdbfolderinfo
+setmailboxname
+nsstring
+boxname
+mboxname
+boxname
+nsok
+nsimplgetset
+nstransferdbfolderinfo
+viewtype
+nsmsgviewtypevalue
+mviewtype
+nsimplgetset
+nstransferdbfolderinfo
+viewflags
+nsmsgviewflagstypevalue
+mviewflags
+nsimplgetset
+nstransferdbfolderinfo
+sorttype
+nsmsgviewsorttypevalue
+msorttype
+nsimplgetset
+nstransferdbfolderinfo
+sortorder
+nsmsgviewsortordervalue
+msortorder
+nsimethodimp
+nsdbfolderinfo
+initfromtransferinfo
+nsidbfolderinfo
+transferinfo
+nsensurearg
+transferinfo
+print
+flags
+nsautostring
+foldernamestr
+transferinfo
+getflags
+flags
+setflags
+flags
+transferinfo
+getmailboxname
+foldernamestr
+setmailboxname
+foldernamestr
+nsxpidlcstring
+utfname
+transferinfo
+getfoldername
+gettercopies
+utfname
+setfoldername
+utfname
+get
+nsmsgviewtypevalue
+viewtype
+nsmsgviewflagstypevalue
+viewflags
+nsmsgviewsorttypevalue
+sorttype
+nsmsgviewsortordervalue
+sortorder
+transferinfo
+getviewtype
+viewtype
+transferinfo
+getviewflags
+viewflags
+transferinfo
+getsorttype
+sorttype
+transferinfo
+getsortorder
+sortorder
+setviewtype
+viewtype
+setviewflags
+viewflags
+setsorttype
+sorttype
+setsortorder
+sortorder
+nsok
\ No newline at end of file
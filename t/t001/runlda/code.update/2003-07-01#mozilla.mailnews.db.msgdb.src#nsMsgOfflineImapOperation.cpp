@@ -0,0 +1,436 @@
+msgcore
+nsmsgofflineimapoperation
+nsreadableutils
+nsimplisupports
+nsmsgofflineimapoperation
+nsimsgofflineimapoperation
+define
+propoperation
+op
+define
+propoperationflags
+opflags
+define
+propnewflags
+newflags
+define
+propmessagekey
+msgkey
+define
+propsrcmessagekey
+srcmsgkey
+define
+propnewflags
+newflags
+define
+propsrcfolderuri
+srcfolderuri
+define
+propmovedestfolderuri
+movedest
+define
+propnumcopydests
+numcopydests
+define
+propcopydests
+copydests
+nsmsgofflineimapoperation
+nsmsgofflineimapoperation
+nsmsgdatabase
+db
+nsimdbrow
+row
+nsassertion
+db
+can
+have
+db
+nsassertion
+row
+can
+have
+row
+moperation
+moperationflags
+mmessagekey
+nsmsgkeynone
+msourcemessagekey
+nsmsgkeynone
+mmdb
+db
+nsaddref
+mmdb
+mmdbrow
+row
+mnewflags
+nsmsgofflineimapoperation
+nsmsgofflineimapoperation
+nsifrelease
+mmdb
+nsimethodimp
+nsmsgofflineimapoperation
+getoperation
+nsofflineimapoperationtype
+aoperation
+nsensurearg
+aoperation
+nsresult
+rv
+mmdb
+getuintproperty
+mmdbrow
+propoperation
+pruint
+aoperation
+moperation
+aoperation
+rv
+nsimethodimp
+nsmsgofflineimapoperation
+setoperation
+nsofflineimapoperationtype
+aoperation
+moperation
+aoperation
+mmdb
+setuintproperty
+mmdbrow
+propoperation
+aoperation
+nsimethodimp
+nsmsgofflineimapoperation
+clearoperation
+nsofflineimapoperationtype
+operation
+moperation
+operation
+operation
+kmsgmoved
+kappendtemplate
+kappenddraft
+mmovedestination
+adopt
+nscrt
+strdup
+kmsgcopy
+mcopydestinations
+removecstringat
+mmdb
+setuintproperty
+mmdbrow
+propoperation
+moperation
+nsimethodimp
+nsmsgofflineimapoperation
+getmessagekey
+nsmsgkey
+amessagekey
+nsensurearg
+amessagekey
+nsresult
+rv
+mmdb
+getuintproperty
+mmdbrow
+propmessagekey
+mmessagekey
+amessagekey
+mmessagekey
+rv
+nsimethodimp
+nsmsgofflineimapoperation
+setmessagekey
+nsmsgkey
+amessagekey
+mmessagekey
+amessagekey
+mmdb
+setuintproperty
+mmdbrow
+propmessagekey
+mmessagekey
+nsimethodimp
+nsmsgofflineimapoperation
+getflagoperation
+imapmessageflagstype
+aflagoperation
+nsensurearg
+aflagoperation
+nsresult
+rv
+mmdb
+getuintproperty
+mmdbrow
+propoperationflags
+moperationflags
+aflagoperation
+moperationflags
+rv
+nsimethodimp
+nsmsgofflineimapoperation
+setflagoperation
+imapmessageflagstype
+aflagoperation
+setoperation
+kflagschanged
+nsresult
+rv
+setnewflags
+aflagoperation
+nsensuresuccess
+rv
+rv
+moperationflags
+aflagoperation
+mmdb
+setuintproperty
+mmdbrow
+propoperationflags
+moperationflags
+nsimethodimp
+nsmsgofflineimapoperation
+getnewflags
+imapmessageflagstype
+anewflags
+nsensurearg
+anewflags
+pruint
+flags
+nsresult
+rv
+mmdb
+getuintproperty
+mmdbrow
+propnewflags
+flags
+anewflags
+mnewflags
+imapmessageflagstype
+flags
+rv
+nsimethodimp
+nsmsgofflineimapoperation
+setnewflags
+imapmessageflagstype
+anewflags
+mnewflags
+anewflags
+mmdb
+setuintproperty
+mmdbrow
+propnewflags
+mnewflags
+nsimethodimp
+nsmsgofflineimapoperation
+getdestinationfolderuri
+adestinationfolderuri
+nsensurearg
+adestinationfolderuri
+mmdb
+getproperty
+mmdbrow
+propmovedestfolderuri
+gettercopies
+mmovedestination
+adestinationfolderuri
+nscrt
+strdup
+mmovedestination
+adestinationfolderuri
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgofflineimapoperation
+setdestinationfolderuri
+adestinationfolderuri
+mmovedestination
+adopt
+adestinationfolderuri
+nscrt
+strdup
+adestinationfolderuri
+mmdb
+setproperty
+mmdbrow
+propmovedestfolderuri
+adestinationfolderuri
+nsimethodimp
+nsmsgofflineimapoperation
+getsourcefolderuri
+asourcefolderuri
+nsensurearg
+asourcefolderuri
+nsresult
+rv
+mmdb
+getproperty
+mmdbrow
+propsrcfolderuri
+gettercopies
+msourcefolder
+asourcefolderuri
+nscrt
+strdup
+msourcefolder
+rv
+nsimethodimp
+nsmsgofflineimapoperation
+setsourcefolderuri
+asourcefolderuri
+msourcefolder
+adopt
+asourcefolderuri
+nscrt
+strdup
+asourcefolderuri
+setoperation
+kmoveresult
+mmdb
+setproperty
+mmdbrow
+propsrcfolderuri
+asourcefolderuri
+nsimethodimp
+nsmsgofflineimapoperation
+addmessagecopyoperation
+destinationbox
+setoperation
+kmsgcopy
+nscautostring
+newdest
+destinationbox
+nsresult
+rv
+getcopiesfromdb
+nsensuresuccess
+rv
+rv
+mcopydestinations
+appendcstring
+newdest
+setcopiestodb
+define
+foldersepchar
+nsresult
+nsmsgofflineimapoperation
+getcopiesfromdb
+nsxpidlcstring
+copydests
+mcopydestinations
+clear
+nsresult
+rv
+mmdb
+getproperty
+mmdbrow
+propcopydests
+gettercopies
+copydests
+nscautostring
+copydestscstring
+copydests
+nssucceeded
+rv
+copydestscstring
+isempty
+print
+curcopydeststart
+print
+nextcopydestpos
+nextcopydestpos
+nscstring
+curdest
+nextcopydestpos
+copydestscstring
+findchar
+foldersepchar
+curcopydeststart
+nextcopydestpos
+copydestscstring
+mid
+curdest
+curcopydeststart
+nextcopydestpos
+curcopydeststart
+copydestscstring
+mid
+curdest
+curcopydeststart
+copydestscstring
+length
+curcopydeststart
+curcopydeststart
+nextcopydestpos
+mcopydestinations
+appendcstring
+curdest
+rv
+nsresult
+nsmsgofflineimapoperation
+setcopiestodb
+nscautostring
+copydests
+print
+mcopydestinations
+count
+copydests
+append
+foldersepchar
+nscstring
+curdest
+mcopydestinations
+cstringat
+copydests
+append
+curdest
+get
+mmdb
+setproperty
+mmdbrow
+propcopydests
+copydests
+get
+nsimethodimp
+nsmsgofflineimapoperation
+getnumberofcopies
+print
+anumberofcopies
+nsensurearg
+anumberofcopies
+nsresult
+rv
+getcopiesfromdb
+nsensuresuccess
+rv
+rv
+anumberofcopies
+mcopydestinations
+count
+nsok
+nsimethodimp
+nsmsgofflineimapoperation
+getcopydestination
+print
+copyindex
+retval
+nsensurearg
+retval
+nsresult
+rv
+getcopiesfromdb
+nsensuresuccess
+rv
+rv
+nscstring
+copydest
+mcopydestinations
+cstringat
+copyindex
+copydest
+retval
+tonewcstring
+copydest
+retval
+nsok
+nserroroutofmemory
+nserrornullpointer
\ No newline at end of file
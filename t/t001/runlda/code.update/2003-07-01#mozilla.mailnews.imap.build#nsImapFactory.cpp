@@ -0,0 +1,116 @@
+msgcore
+nscomptr
+nsimodule
+nsigenericfactory
+nsimaphostsessionlist
+nsimapincomingserver
+nsimapservice
+nsimapmailfolder
+nsimapurl
+nsimapprotocol
+nsmsgimapcid
+nscuriloader
+nsgenericfactoryconstructorinit
+nsimapurl
+initialize
+nsgenericfactoryconstructor
+nsimapprotocol
+nsgenericfactoryconstructorinit
+nsimaphostsessionlist
+init
+nsgenericfactoryconstructor
+nsimapincomingserver
+nsgenericfactoryconstructor
+nsimapservice
+nsgenericfactoryconstructor
+nsimapmailfolder
+nsgenericfactoryconstructor
+nsimapmockchannel
+nsmodulecomponentinfo
+gcomponents
+imap
+url
+nsimapurlcid
+nsnull
+nsimapurlconstructor
+imap
+protocol
+channel
+nsimapprotocolcid
+nsnull
+nsimapprotocolconstructor
+imap
+mock
+channel
+nsimapmockchannelcid
+nsnull
+nsimapmockchannelconstructor
+imap
+host
+session
+list
+nsiimaphostsessionlistcid
+nsnull
+nsimaphostsessionlistconstructor
+imap
+incoming
+server
+nsimapincomingservercid
+nsimapincomingservercontractid
+nsimapincomingserverconstructor
+mail
+news
+imap
+resource
+factory
+nsimapresourcecid
+nsrdfresourcefactorycontractidprefix
+imap
+nsimapmailfolderconstructor
+imap
+service
+nsimapservicecid
+messenger
+messageservice
+type
+imap
+message
+nsimapserviceconstructor
+imap
+service
+nsimapservicecid
+messenger
+messageservice
+type
+imap
+nsimapserviceconstructor
+imap
+service
+nsimapservicecid
+nsimapservicecontractid
+nsimapserviceconstructor
+imap
+protocol
+handler
+nsimapservicecid
+nsnetworkprotocolcontractidprefix
+imap
+nsimapserviceconstructor
+imap
+protocol
+handler
+nsimapservicecid
+nsimapprotocolinfocontractid
+nsimapserviceconstructor
+imap
+folder
+content
+handler
+nsimapservicecid
+nscontenthandlercontractidprefix
+application
+imapfolder
+nsimapserviceconstructor
+nsimplnsgetmodule
+imapfactory
+gcomponents
\ No newline at end of file
@@ -0,0 +1,1810 @@
+msgcore
+nsimaphostsessionlist
+nsimapbodyshell
+nsimapprotocol
+nshashtable
+nsmimetypes
+nsiprefbranch
+nsiprefservice
+nsitransport
+define
+imapexternalcontentheader
+mozilla
+imap
+part
+print
+gmaxdepth
+nsimapbodyshell
+nsimapbodyshell
+nsimapprotocol
+protocolconnection
+buf
+pruint
+uid
+foldername
+gmaxdepth
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+prefbranch
+prefbranch
+getintpref
+mail
+imap
+mimepartsondemandmaxdepth
+gmaxdepth
+misvalid
+prfalse
+misbeinggenerated
+prfalse
+mcached
+prfalse
+mgotattachmentpref
+prfalse
+mgeneratingwholemessage
+prfalse
+mgeneratingpart
+mprotocolconnection
+protocolconnection
+nsassertion
+mprotocolconnection
+non
+connection
+mprotocolconnection
+mprefetchqueue
+nsimapmessagepartidarray
+mprefetchqueue
+nsassertion
+buf
+buffer
+passed
+to
+nsimapbodyshell
+constructor
+buf
+muid
+muid
+appendint
+uid
+ifdef
+debugchrisf
+nsassertion
+foldername
+endif
+foldername
+mfoldername
+nscrt
+strdup
+foldername
+mfoldername
+setcontentmodified
+getshowattachmentsinline
+imapcontentmodifiedviewinline
+imapcontentmodifiedviewaslinks
+doctoredbuf
+prsmprintf
+message
+rfc
+nil
+nil
+nil
+nil
+buf
+doctoredbuf
+setisvalid
+prtrue
+mmessage
+nsimapbodypartmessage
+doctoredbuf
+prtrue
+prfree
+doctoredbuf
+mmessage
+mmessage
+getisvalid
+nsimapbodyshell
+nsimapbodyshell
+mmessage
+mprefetchqueue
+prfreeif
+mfoldername
+nsimapbodyshell
+setisvalid
+prbool
+valid
+misvalid
+valid
+prbool
+nsimapbodyshell
+getshowattachmentsinline
+mgotattachmentpref
+mshowattachmentsinline
+mprotocolconnection
+mprotocolconnection
+getshowattachmentsinline
+mgotattachmentpref
+prtrue
+mshowattachmentsinline
+nsimapbodyshell
+adoptmessageheaders
+headers
+partnum
+getisvalid
+partnum
+partnum
+nsimapbodypart
+foundpart
+mmessage
+findpartwithnumber
+partnum
+foundpart
+nsimapbodypartmessage
+messageobj
+foundpart
+getnsimapbodypartmessage
+messageobj
+messageobj
+adoptmessageheaders
+headers
+messageobj
+getisvalid
+setisvalid
+prfalse
+nsassertion
+prfalse
+object
+of
+type
+message
+rfc
+setisvalid
+prfalse
+nsimapbodyshell
+adoptmimeheader
+partnum
+mimeheader
+getisvalid
+nsassertion
+partnum
+partnum
+in
+body
+shell
+nsimapbodypart
+foundpart
+mmessage
+findpartwithnumber
+partnum
+foundpart
+foundpart
+adoptheaderdatabuffer
+mimeheader
+foundpart
+getisvalid
+setisvalid
+prfalse
+setisvalid
+prfalse
+nsimapbodyshell
+addprefetchtoqueue
+nsimapefetchfields
+fields
+partnumber
+nsimapmessagepartid
+newpart
+nsimapmessagepartid
+fields
+partnumber
+newpart
+mprefetchqueue
+appendelement
+newpart
+nsimapbodyshell
+flushprefetchqueue
+mprotocolconnection
+pipelinedfetchmessageparts
+getuid
+mprefetchqueue
+mprefetchqueue
+removeandfreeall
+prbool
+nsimapbodyshell
+preflightcheckallinline
+prbool
+rv
+mmessage
+preflightcheckallinline
+rv
+print
+nsimapbodyshell
+generate
+partnum
+misbeinggenerated
+prtrue
+mgeneratingpart
+partnum
+print
+contentlength
+getisvalid
+preflightcheckallinline
+ifdef
+debugchrisf
+nsassertion
+getisvalid
+endif
+mgeneratingwholemessage
+prtrue
+pruint
+messagesize
+mprotocolconnection
+getmessagesize
+getuid
+get
+prtrue
+mprotocolconnection
+setcontentmodified
+imapcontentnotmodified
+deathsignalreceived
+mprotocolconnection
+fetchtrychunking
+getuid
+get
+keverythingrfc
+prtrue
+messagesize
+prtrue
+contentlength
+print
+messagesize
+prbool
+streamcreated
+prfalse
+mgeneratingwholemessage
+prfalse
+getpseudointerrupted
+mmessage
+generate
+prfalse
+prtrue
+flushprefetchqueue
+getpseudointerrupted
+contentlength
+mmessage
+generate
+prfalse
+prfalse
+getpseudointerrupted
+deathsignalreceived
+nsresult
+rv
+mprotocolconnection
+beginmessagedownload
+contentlength
+messagerfc
+nsfailed
+rv
+mgeneratingpart
+nsnull
+mprotocolconnection
+abortmessagedownload
+streamcreated
+prtrue
+getpseudointerrupted
+deathsignalreceived
+mmessage
+generate
+prtrue
+prfalse
+getpseudointerrupted
+deathsignalreceived
+mprotocolconnection
+normalmessageenddownload
+streamcreated
+mprotocolconnection
+abortmessagedownload
+mgeneratingpart
+misbeinggenerated
+prfalse
+contentlength
+prbool
+nsimapbodyshell
+getpseudointerrupted
+prbool
+rv
+mprotocolconnection
+getpseudointerrupted
+rv
+prbool
+nsimapbodyshell
+deathsignalreceived
+prbool
+rv
+mprotocolconnection
+deathsignalreceived
+rv
+findendpareninbuffer
+buf
+where
+buf
+numcloseparensneeded
+where
+where
+numcloseparensneeded
+where
+where
+numcloseparensneeded
+where
+numcloseparensneeded
+where
+nsimapbodypart
+nsimapbodypart
+createpart
+nsimapbodyshell
+shell
+partnum
+buf
+nsimapbodypart
+parentpart
+buf
+buf
+nsassertion
+prfalse
+part
+is
+leaf
+container
+buf
+nsimapbodypartmultipart
+shell
+partnum
+buf
+parentpart
+nsimapbodypart
+rv
+nsimapbodypartleaf
+shell
+partnum
+buf
+parentpart
+rv
+rv
+getisvalid
+bodytype
+rv
+getbodytype
+bodysubtype
+rv
+getbodysubtype
+plstrcasecmp
+bodytype
+message
+plstrcasecmp
+bodysubtype
+rfc
+keeppartnum
+nscrt
+strdup
+partnum
+rv
+nsimapbodypartmessage
+shell
+keeppartnum
+buf
+parentpart
+prfalse
+rv
+nsimapbodypart
+nsimapbodypart
+nsimapbodyshell
+shell
+partnumber
+buf
+nsimapbodypart
+parentpart
+nsimapgenericparser
+setisvalid
+prtrue
+mparentpart
+parentpart
+mpartnumberstring
+partnumber
+shell
+setisvalid
+prfalse
+buf
+mresponsebuffer
+nscrt
+strdup
+buf
+mresponsebuffer
+mshell
+shell
+mpartdata
+mheaderdata
+mboundarydata
+mcontentlength
+mpartlength
+mcontenttype
+mbodytype
+mbodysubtype
+mbodyid
+mbodydescription
+mbodyencoding
+nsimapbodypart
+nsimapbodypart
+prfreeif
+mpartnumberstring
+prfreeif
+mresponsebuffer
+prfreeif
+mcontenttype
+prfreeif
+mbodytype
+prfreeif
+mbodysubtype
+prfreeif
+mbodyid
+prfreeif
+mbodydescription
+prfreeif
+mbodyencoding
+prfreeif
+mpartdata
+prfreeif
+mheaderdata
+prfreeif
+mboundarydata
+nsimapbodypart
+setisvalid
+prbool
+valid
+misvalid
+valid
+misvalid
+mshell
+setisvalid
+prfalse
+prbool
+nsimapbodypart
+getnextlineforparser
+nextline
+prbool
+rv
+prtrue
+nextline
+mresponsebuffer
+mresponsebuffer
+rv
+prfalse
+mresponsebuffer
+rv
+prbool
+nsimapbodypart
+continueparse
+getisvalid
+nsimapgenericparser
+continueparse
+mshell
+getisvalid
+nsimapbodypart
+adoptpartdatabuffer
+buf
+mpartdata
+buf
+mpartdata
+setisvalid
+prfalse
+nsimapbodypart
+adoptheaderdatabuffer
+buf
+mheaderdata
+buf
+mheaderdata
+setisvalid
+prfalse
+nsimapbodypart
+nsimapbodypart
+findpartwithnumber
+partnum
+mpartnumberstring
+plstrcasecmp
+partnum
+mpartnumberstring
+nsimapbodypart
+queueprefetchmimeheader
+mshell
+addprefetchtoqueue
+kmimeheader
+mpartnumberstring
+print
+nsimapbodypart
+generatemimeheader
+prbool
+stream
+prbool
+prefetch
+prefetch
+mheaderdata
+queueprefetchmimeheader
+mheaderdata
+print
+mimeheaderlength
+shouldfetchinline
+xpartheader
+prsmprintf
+imapexternalcontentheader
+mpartnumberstring
+xpartheader
+stream
+mshell
+getconnection
+log
+shell
+generate
+xheader
+mpartnumberstring
+mshell
+getconnection
+handlemessagedownloadline
+xpartheader
+prfalse
+mimeheaderlength
+plstrlen
+xpartheader
+prfree
+xpartheader
+mimeheaderlength
+plstrlen
+mheaderdata
+stream
+mshell
+getconnection
+log
+shell
+generate
+mimeheader
+mpartnumberstring
+mshell
+getconnection
+handlemessagedownloadline
+mheaderdata
+prfalse
+mimeheaderlength
+setisvalid
+prfalse
+print
+nsimapbodypart
+generatepart
+prbool
+stream
+prbool
+prefetch
+prefetch
+mpartdata
+stream
+mshell
+getconnection
+log
+shell
+generate
+part
+prefetched
+mpartnumberstring
+mshell
+getconnection
+handlemessagedownloadline
+mpartdata
+prfalse
+plstrlen
+mpartdata
+stream
+mshell
+deathsignalreceived
+generatingpart
+mshell
+getgeneratingpart
+prbool
+fetchingspecificpart
+generatingpart
+plstrcmp
+generatingpart
+mpartnumberstring
+mshell
+getconnection
+log
+shell
+generate
+part
+inline
+mpartnumberstring
+mshell
+getconnection
+fetchtrychunking
+mshell
+getuid
+get
+kmimepart
+prtrue
+mpartnumberstring
+mpartlength
+fetchingspecificpart
+mpartlength
+print
+nsimapbodypart
+generateboundary
+prbool
+stream
+prbool
+prefetch
+prbool
+lastboundary
+prefetch
+mboundarydata
+lastboundary
+stream
+mshell
+getconnection
+log
+shell
+generate
+boundary
+mpartnumberstring
+mshell
+getconnection
+handlemessagedownloadline
+mboundarydata
+prfalse
+plstrlen
+mboundarydata
+lastboundarydata
+prsmprintf
+mboundarydata
+lastboundarydata
+stream
+mshell
+getconnection
+log
+shell
+generate
+boundary
+last
+mpartnumberstring
+mshell
+getconnection
+handlemessagedownloadline
+lastboundarydata
+prfalse
+print
+rv
+plstrlen
+lastboundarydata
+prfree
+lastboundarydata
+rv
+print
+nsimapbodypart
+generateemptyfilling
+prbool
+stream
+prbool
+prefetch
+prefetch
+emptystring
+this
+body
+part
+will
+be
+downloaded
+on
+demand
+emptystring
+stream
+mshell
+getconnection
+log
+shell
+generate
+filling
+mpartnumberstring
+mshell
+getconnection
+handlemessagedownloadline
+emptystring
+prfalse
+plstrlen
+emptystring
+prbool
+nsimapbodypart
+shouldexplicitlyfetchinline
+prfalse
+prbool
+nsimapbodypart
+shouldexplicitlynotfetchinline
+prfalse
+nsimapbodypartleaf
+nsimapbodypartleaf
+nsimapbodyshell
+shell
+partnum
+buf
+nsimapbodypart
+parentpart
+nsimapbodypart
+shell
+partnum
+buf
+parentpart
+setisvalid
+parseintoobjects
+nsimapbodyparttype
+nsimapbodypartleaf
+gettype
+imapbodyleaf
+print
+nsimapbodypartleaf
+generate
+prbool
+stream
+prbool
+prefetch
+print
+len
+getisvalid
+stream
+prefetch
+mshell
+getconnection
+log
+shell
+generate
+leaf
+mpartnumberstring
+nsassertion
+mparentpart
+part
+has
+no
+parent
+mparentpart
+gettype
+imapbodymessagerfc
+mshell
+getpseudointerrupted
+len
+generatemimeheader
+stream
+prefetch
+mshell
+getpseudointerrupted
+shouldfetchinline
+len
+generatepart
+stream
+prefetch
+len
+generateemptyfilling
+stream
+prefetch
+mcontentlength
+len
+mcontentlength
+prbool
+nsimapbodypartleaf
+parseintoobjects
+fnexttoken
+getnexttoken
+continueparse
+fnexttoken
+mbodytype
+createnilstring
+continueparse
+fnexttoken
+getnexttoken
+setisvalid
+prfalse
+setisvalid
+prfalse
+continueparse
+mbodysubtype
+createnilstring
+continueparse
+fnexttoken
+getnexttoken
+setisvalid
+prfalse
+setisvalid
+prfalse
+continueparse
+fnexttoken
+setisvalid
+prfalse
+fnexttoken
+fnexttoken
+setisvalid
+prfalse
+fnexttoken
+fnexttoken
+skiptocloseparen
+fnexttoken
+getnexttoken
+plstrcasecmp
+fnexttoken
+nil
+fnexttoken
+getnexttoken
+setisvalid
+prfalse
+continueparse
+mbodyid
+createnilstring
+continueparse
+fnexttoken
+getnexttoken
+setisvalid
+prfalse
+setisvalid
+prfalse
+continueparse
+mbodydescription
+createnilstring
+continueparse
+fnexttoken
+getnexttoken
+setisvalid
+prfalse
+setisvalid
+prfalse
+continueparse
+mbodyencoding
+createnilstring
+continueparse
+fnexttoken
+getnexttoken
+setisvalid
+prfalse
+setisvalid
+prfalse
+continueparse
+bodysizestring
+createatom
+bodysizestring
+mpartlength
+atoi
+bodysizestring
+prfree
+bodysizestring
+setisvalid
+prfalse
+continueparse
+fnexttoken
+getnexttoken
+setisvalid
+prfalse
+setisvalid
+prfalse
+getisvalid
+mbodytype
+mbodysubtype
+mcontenttype
+prsmprintf
+mbodytype
+mbodysubtype
+prtrue
+prbool
+nsimapbodypartleaf
+shouldfetchinline
+generatingpart
+mshell
+getgeneratingpart
+generatingpart
+plstrcmp
+generatingpart
+mpartnumberstring
+prtrue
+mparentpart
+gettype
+imapbodymessagerfc
+plstrcmp
+mparentpart
+getpartnumberstring
+generatingpart
+prtrue
+mparentpart
+gettype
+imapbodymultipart
+nsimapbodypart
+grandparent
+mparentpart
+getparentpart
+nsassertion
+grandparent
+grandparent
+doesn
+exist
+multi
+part
+alt
+grandparent
+grandparent
+gettype
+imapbodymessagerfc
+plstrcmp
+grandparent
+getpartnumberstring
+generatingpart
+mpartnumberstring
+plstrlen
+mpartnumberstring
+plstrcasecmp
+mbodytype
+text
+prtrue
+mparentpart
+plstrcasecmp
+mparentpart
+getbodysubtype
+appledouble
+plstrcmp
+mparentpart
+getpartnumberstring
+generatingpart
+prtrue
+prfalse
+shouldexplicitlyfetchinline
+prtrue
+shouldexplicitlynotfetchinline
+prfalse
+mparentpart
+gettype
+imapbodymessagerfc
+mparentpart
+shouldfetchinline
+mshell
+getcontentmodified
+imapcontentmodifiedviewinline
+plstrcmp
+mpartnumberstring
+plstrcasecmp
+mbodytype
+text
+prtrue
+mparentpart
+gettype
+imapbodymultipart
+plstrlen
+mpartnumberstring
+plstrcmp
+mpartnumberstring
+plstrlen
+mpartnumberstring
+plstrcmp
+mparentpart
+getpartnumberstring
+plstrcmp
+mparentpart
+getpartnumberstring
+plstrcasecmp
+mbodytype
+text
+prtrue
+prfalse
+defined
+xpmac
+defined
+xpmacosx
+plstrcasecmp
+mcontenttype
+application
+applefile
+mparentpart
+gettype
+imapbodymultipart
+plstrcasecmp
+mparentpart
+getbodysubtype
+appledouble
+mparentpart
+shouldfetchinline
+prfalse
+endif
+plstrcasecmp
+mbodytype
+application
+plstrncasecmp
+mbodysubtype
+pkcs
+prfalse
+prtrue
+prbool
+nsimapbodypartleaf
+preflightcheckallinline
+shouldfetchinline
+nsimapbodypartmessage
+nsimapbodypartmessage
+nsimapbodyshell
+shell
+partnum
+buf
+nsimapbodypart
+parentpart
+prbool
+toplevelmessage
+nsimapbodypartleaf
+shell
+partnum
+buf
+parentpart
+mtoplevelmessage
+toplevelmessage
+mtoplevelmessage
+mpartnumberstring
+prsmprintf
+mpartnumberstring
+setisvalid
+prfalse
+mbody
+mheaders
+nsimapmessageheaders
+shell
+mpartnumberstring
+mheaders
+mheaders
+getisvalid
+setisvalid
+prfalse
+setisvalid
+parseintoobjects
+nsimapbodyparttype
+nsimapbodypartmessage
+gettype
+imapbodymessagerfc
+nsimapbodypartmessage
+nsimapbodypartmessage
+mheaders
+mbody
+print
+nsimapbodypartmessage
+generate
+prbool
+stream
+prbool
+prefetch
+getisvalid
+mcontentlength
+stream
+prefetch
+mshell
+getconnection
+log
+shell
+generate
+messagerfc
+mpartnumberstring
+mtoplevelmessage
+mshell
+getpseudointerrupted
+plstrcasecmp
+mbodytype
+message
+plstrcasecmp
+mbodysubtype
+rfc
+plstrcasecmp
+mparentpart
+getbodytype
+message
+plstrcasecmp
+mparentpart
+getbodysubtype
+rfc
+mcontentlength
+generatemimeheader
+stream
+prefetch
+mshell
+getpseudointerrupted
+mcontentlength
+mheaders
+generate
+stream
+prefetch
+mshell
+getpseudointerrupted
+mcontentlength
+mbody
+generate
+stream
+prefetch
+mcontentlength
+prbool
+nsimapbodypartmessage
+parseintoobjects
+continueparse
+fnexttoken
+fnexttoken
+skiptocloseparen
+setisvalid
+prfalse
+continueparse
+fnexttoken
+parengroup
+createparengroup
+parengroup
+bodypartnum
+mtoplevelmessage
+bodypartnum
+prsmprintf
+mpartnumberstring
+bodypartnum
+prsmprintf
+bodypartnum
+continueparse
+mbody
+nsimapbodypart
+createpart
+mshell
+bodypartnum
+parengroup
+prfree
+parengroup
+setsyntaxerror
+prtrue
+setisvalid
+prfalse
+setisvalid
+prfalse
+setisvalid
+prfalse
+mbody
+mbody
+getisvalid
+setisvalid
+prfalse
+getisvalid
+prbool
+nsimapbodypartmessage
+shouldfetchinline
+mtoplevelmessage
+prtrue
+generatingpart
+mshell
+getgeneratingpart
+generatingpart
+prtrue
+shouldexplicitlyfetchinline
+prtrue
+shouldexplicitlynotfetchinline
+prfalse
+prtrue
+prbool
+nsimapbodypartmessage
+preflightcheckallinline
+shouldfetchinline
+prfalse
+mbody
+preflightcheckallinline
+nsimapbodypartmessage
+adoptmessageheaders
+headers
+getisvalid
+mheaders
+adoptpartdatabuffer
+headers
+mheaders
+getisvalid
+setisvalid
+prfalse
+nsimapbodypart
+nsimapbodypartmessage
+findpartwithnumber
+partnum
+plstrcasecmp
+partnum
+mpartnumberstring
+mbody
+findpartwithnumber
+partnum
+nsimapbodypartmultipart
+nsimapbodypartmultipart
+nsimapbodyshell
+shell
+partnum
+buf
+nsimapbodypart
+parentpart
+nsimapbodypart
+shell
+partnum
+buf
+parentpart
+mparentpart
+mparentpart
+gettype
+imapbodymessagerfc
+prfreeif
+mpartnumberstring
+mparentpart
+mpartnumberstring
+prsmprintf
+mpartnumberstring
+nscrt
+strdup
+mparentpart
+getpartnumberstring
+mpartlist
+nsvoidarray
+mpartlist
+setisvalid
+prfalse
+mparentpart
+setisvalid
+prfalse
+setisvalid
+parseintoobjects
+nsimapbodyparttype
+nsimapbodypartmultipart
+gettype
+imapbodymultipart
+nsimapbodypartmultipart
+nsimapbodypartmultipart
+mpartlist
+count
+nsimapbodypart
+mpartlist
+elementat
+mpartlist
+print
+nsimapbodypartmultipart
+generate
+prbool
+stream
+prbool
+prefetch
+print
+len
+getisvalid
+stream
+prefetch
+mshell
+getconnection
+log
+shell
+generate
+multipart
+mpartnumberstring
+prbool
+parentismessagetype
+getparentpart
+getparentpart
+gettype
+imapbodymessagerfc
+prtrue
+prbool
+needmimeheader
+parentismessagetype
+needmimeheader
+mshell
+getpseudointerrupted
+len
+generatemimeheader
+stream
+prefetch
+shouldfetchinline
+mpartlist
+count
+mshell
+getpseudointerrupted
+len
+generateboundary
+stream
+prefetch
+prfalse
+mshell
+getpseudointerrupted
+len
+nsimapbodypart
+mpartlist
+elementat
+generate
+stream
+prefetch
+mshell
+getpseudointerrupted
+len
+generateboundary
+stream
+prefetch
+prtrue
+mshell
+getpseudointerrupted
+len
+generateemptyfilling
+stream
+prefetch
+mcontentlength
+len
+mcontentlength
+prbool
+nsimapbodypartmultipart
+parseintoobjects
+where
+mresponsebuffer
+childcount
+where
+continueparse
+endparen
+findendpareninbuffer
+where
+endparen
+print
+len
+endparen
+where
+parengroup
+prmalloc
+len
+parengroup
+plstrncpy
+parengroup
+where
+len
+parengroup
+len
+childcount
+childpartnum
+plstrcmp
+mpartnumberstring
+childpartnum
+prsmprintf
+mpartnumberstring
+childcount
+childpartnum
+prsmprintf
+childcount
+childpartnum
+nsimapbodypart
+child
+nsimapbodypart
+createpart
+mshell
+childpartnum
+parengroup
+child
+mpartlist
+appendelement
+child
+setisvalid
+prfalse
+setisvalid
+prfalse
+prfree
+parengroup
+newbuf
+endparen
+newbuf
+prsmprintf
+endparen
+newbuf
+prsmprintf
+endparen
+prfreeif
+mresponsebuffer
+mresponsebuffer
+newbuf
+where
+mresponsebuffer
+setisvalid
+prfalse
+setisvalid
+prfalse
+getisvalid
+mbodytype
+nscrt
+strdup
+multipart
+fnexttoken
+getnexttoken
+continueparse
+fnexttoken
+mbodysubtype
+createnilstring
+continueparse
+fnexttoken
+getnexttoken
+setisvalid
+prfalse
+continueparse
+fnexttoken
+continueparse
+fnexttoken
+attribute
+createnilstring
+continueparse
+fnexttoken
+getnexttoken
+setisvalid
+prfalse
+continueparse
+attribute
+plstrcasecmp
+attribute
+boundary
+boundary
+createnilstring
+boundary
+mboundarydata
+prsmprintf
+boundary
+prfree
+boundary
+continueparse
+fnexttoken
+getnexttoken
+setisvalid
+prfalse
+prfree
+attribute
+prfreeif
+attribute
+continueparse
+value
+createnilstring
+prfreeif
+value
+continueparse
+fnexttoken
+getnexttoken
+mcontenttype
+prsmprintf
+mbodytype
+mbodysubtype
+mboundarydata
+setisvalid
+prfalse
+getisvalid
+prbool
+nsimapbodypartmultipart
+shouldfetchinline
+generatingpart
+mshell
+getgeneratingpart
+generatingpart
+prtrue
+shouldexplicitlyfetchinline
+prtrue
+shouldexplicitlynotfetchinline
+prfalse
+nsimapbodypart
+grandparentpart
+mparentpart
+getparentpart
+mshell
+getcontentmodified
+imapcontentmodifiedviewinline
+mparentpart
+gettype
+imapbodymessagerfc
+mparentpart
+gettype
+imapbodymultipart
+grandparentpart
+grandparentpart
+gettype
+imapbodymessagerfc
+prtrue
+prtrue
+prfalse
+prtrue
+prbool
+nsimapbodypartmultipart
+preflightcheckallinline
+prbool
+rv
+shouldfetchinline
+rv
+mpartlist
+count
+rv
+nsimapbodypart
+mpartlist
+elementat
+preflightcheckallinline
+rv
+nsimapbodypart
+nsimapbodypartmultipart
+findpartwithnumber
+partnum
+nsassertion
+partnum
+part
+passed
+into
+findpartwithnumber
+plstrcmp
+partnum
+mpartnumberstring
+mpartlist
+count
+nsimapbodypart
+foundpart
+nsimapbodypart
+mpartlist
+elementat
+findpartwithnumber
+partnum
+foundpart
+foundpart
+nsimapmessageheaders
+nsimapmessageheaders
+nsimapbodyshell
+shell
+partnum
+nsimapbodypart
+parentpart
+nsimapbodypart
+shell
+partnum
+parentpart
+partnum
+setisvalid
+prfalse
+mpartnumberstring
+nscrt
+strdup
+partnum
+mpartnumberstring
+setisvalid
+prfalse
+mparentpart
+mparentpart
+getnsimapbodypartmessage
+nsassertion
+prfalse
+creating
+message
+headers
+with
+invalid
+message
+parent
+setisvalid
+prfalse
+nsimapbodyparttype
+nsimapmessageheaders
+gettype
+imapbodymessageheader
+nsimapmessageheaders
+queueprefetchmessageheaders
+mparentpart
+getnsimapbodypartmessage
+getistoplevelmessage
+mshell
+addprefetchtoqueue
+krfcheadersonly
+mpartnumberstring
+mshell
+addprefetchtoqueue
+krfcheadersonly
+print
+nsimapmessageheaders
+generate
+prbool
+stream
+prbool
+prefetch
+prefetch
+mpartdata
+mshell
+deathsignalreceived
+queueprefetchmessageheaders
+stream
+prefetch
+mshell
+getconnection
+log
+shell
+generate
+messageheaders
+mpartnumberstring
+shouldfetchinline
+mshell
+getpseudointerrupted
+mcontentlength
+generatepart
+stream
+prefetch
+mcontentlength
+mcontentlength
+prbool
+nsimapmessageheaders
+parseintoobjects
+prtrue
+prbool
+nsimapmessageheaders
+shouldfetchinline
+mparentpart
+shouldfetchinline
+imapshellcachestrcmp
+plstrcmp
+endif
+nsimapbodyshellcache
+nsimapbodyshellcache
+mshellhash
+nshashtable
+mshelllist
+nsvoidarray
+nsimapbodyshellcache
+nsimapbodyshellcache
+create
+nsimapbodyshellcache
+cache
+nsimapbodyshellcache
+cache
+cache
+mshellhash
+cache
+mshelllist
+cache
+nsimapbodyshellcache
+nsimapbodyshellcache
+ejectentry
+mshellhash
+mshelllist
+prbool
+nsimapbodyshellcache
+ejectentry
+mshelllist
+count
+prfalse
+nsimapbodyshell
+removedshell
+nsimapbodyshell
+mshelllist
+elementat
+mshelllist
+removeelementat
+nscstringkey
+hashkey
+removedshell
+getuid
+mshellhash
+remove
+hashkey
+removedshell
+prtrue
+prbool
+nsimapbodyshellcache
+addshelltocache
+nsimapbodyshell
+shell
+findshellforuid
+shell
+getuid
+shell
+getfoldername
+shell
+getcontentmodified
+prtrue
+nscstringkey
+hashkey
+shell
+getuid
+nsimapbodyshell
+foundshell
+nsimapbodyshell
+mshellhash
+get
+hashkey
+foundshell
+nscstringkey
+hashkey
+foundshell
+getuid
+mshellhash
+remove
+hashkey
+mshelllist
+removeelement
+foundshell
+mshelllist
+appendelement
+shell
+nscstringkey
+hashkey
+shell
+getuid
+mshellhash
+put
+hashkey
+shell
+shell
+setiscached
+prtrue
+prbool
+rv
+prtrue
+getsize
+getmaxsize
+rv
+ejectentry
+rv
+nsimapbodyshell
+nsimapbodyshellcache
+findshellforuid
+nscstring
+uid
+mailboxname
+imapcontentmodifiedtype
+modtype
+nscstringkey
+hashkey
+uid
+nsimapbodyshell
+foundshell
+nsimapbodyshell
+mshellhash
+get
+hashkey
+foundshell
+nsnull
+modtype
+foundshell
+getcontentmodified
+nsnull
+plstrcmp
+mailboxname
+foundshell
+getfoldername
+nsnull
+mshelllist
+removeelement
+foundshell
+mshelllist
+appendelement
+foundshell
+foundshell
+nsimapbodyshell
+nsimapbodyshellcache
+findshellforuid
+pruint
+uid
+mailboxname
+imapcontentmodifiedtype
+modtype
+nscstring
+uidstring
+uidstring
+appendint
+uid
+nsimapbodyshell
+rv
+findshellforuid
+uidstring
+mailboxname
+modtype
+rv
+nsimapmessagepartid
+nsimapmessagepartid
+nsimapefetchfields
+fields
+partnumberstring
+mfields
+fields
+mpartnumberstring
+partnumberstring
+nsimapmessagepartidarray
+nsimapmessagepartidarray
+nsimapmessagepartidarray
+nsimapmessagepartidarray
+removeandfreeall
+nsimapmessagepartidarray
+removeandfreeall
+count
+nsimapmessagepartid
+part
+getpart
+part
+clear
\ No newline at end of file
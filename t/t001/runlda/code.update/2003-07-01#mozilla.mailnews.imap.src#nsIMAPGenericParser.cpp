@@ -0,0 +1,682 @@
+msgcore
+nsimapcore
+nsimapprotocol
+nsimapgenericparser
+nsstring
+nsreadableutils
+strtokenr
+stringp
+delim
+skip
+spanp
+sc
+tok
+stringp
+skip
+cont
+spanp
+delim
+sc
+spanp
+sc
+cont
+stringp
+tok
+spanp
+delim
+sc
+spanp
+stringp
+tok
+sc
+nsimapgenericparser
+imapstrtokr
+lasts
+lasts
+strtokenr
+lasts
+nsimapgenericparser
+nsimapgenericparser
+fnexttoken
+nsnull
+fcurrentline
+nsnull
+flineoftokens
+nsnull
+fstartoflineoftokens
+nsnull
+fcurrenttokenplaceholder
+nsnull
+fatendofline
+prfalse
+ftokenizeradvanced
+prfalse
+fsyntaxerrorline
+nsnull
+fsyntaxerror
+prfalse
+fdisconnected
+prfalse
+nsimapgenericparser
+nsimapgenericparser
+prfreeif
+fcurrentline
+prfreeif
+fstartoflineoftokens
+prfreeif
+fsyntaxerrorline
+nsimapgenericparser
+handlememoryfailure
+setconnected
+prfalse
+nsimapgenericparser
+resetlexanalyzer
+prfreeif
+fcurrentline
+prfreeif
+fstartoflineoftokens
+ftokenizeradvanced
+prfalse
+fcurrentline
+fnexttoken
+flineoftokens
+fstartoflineoftokens
+fcurrenttokenplaceholder
+nsnull
+fatendofline
+prfalse
+prbool
+nsimapgenericparser
+lastcommandsuccessful
+connected
+syntaxerror
+nsimapgenericparser
+setsyntaxerror
+prbool
+error
+fsyntaxerror
+error
+prfreeif
+fsyntaxerrorline
+error
+nsassertion
+prfalse
+syntax
+error
+in
+generic
+parser
+fsyntaxerrorline
+plstrdup
+fcurrentline
+fsyntaxerrorline
+nsimapgenericparser
+createsyntaxerrorline
+plstrdup
+fsyntaxerrorline
+prbool
+nsimapgenericparser
+syntaxerror
+fsyntaxerror
+nsimapgenericparser
+setconnected
+prbool
+connected
+fdisconnected
+connected
+prbool
+nsimapgenericparser
+connected
+fdisconnected
+prbool
+nsimapgenericparser
+continueparse
+fsyntaxerror
+fdisconnected
+prbool
+nsimapgenericparser
+atendofline
+fatendofline
+nscrt
+strcmp
+fnexttoken
+crlf
+nsimapgenericparser
+skiptocrlf
+connected
+atendofline
+fnexttoken
+getnexttoken
+nsimapgenericparser
+skiptocloseparen
+numberofcloseparensneeded
+fnexttoken
+fnexttoken
+numberofcloseparensneeded
+fnexttoken
+fnexttoken
+fnexttoken
+fnexttoken
+getnexttoken
+continueparse
+numberofcloseparensneeded
+loc
+loc
+fnexttoken
+loc
+loc
+loc
+loc
+numberofcloseparensneeded
+loc
+numberofcloseparensneeded
+numberofcloseparensneeded
+fnexttoken
+loc
+fnexttoken
+fnexttoken
+fnexttoken
+getnexttoken
+numberofcloseparensneeded
+fnexttoken
+getnexttoken
+nsimapgenericparser
+getnexttoken
+fcurrentline
+fatendofline
+advancetonextline
+connected
+ftokenizeradvanced
+fnexttoken
+imapstrtokr
+flineoftokens
+whitespace
+fcurrenttokenplaceholder
+ftokenizeradvanced
+prfalse
+fnexttoken
+imapstrtokr
+nsnull
+whitespace
+fcurrenttokenplaceholder
+fnexttoken
+fatendofline
+prtrue
+fnexttoken
+crlf
+fnexttoken
+nsimapgenericparser
+advancetonextline
+prfreeif
+fcurrentline
+prfreeif
+fstartoflineoftokens
+ftokenizeradvanced
+prfalse
+prbool
+ok
+getnextlineforparser
+fcurrentline
+ok
+setconnected
+prfalse
+fstartoflineoftokens
+nsnull
+flineoftokens
+nsnull
+fcurrenttokenplaceholder
+nsnull
+fnexttoken
+crlf
+fcurrentline
+fstartoflineoftokens
+plstrdup
+fcurrentline
+fstartoflineoftokens
+flineoftokens
+fstartoflineoftokens
+fnexttoken
+imapstrtokr
+flineoftokens
+whitespace
+fcurrenttokenplaceholder
+fnexttoken
+fatendofline
+prtrue
+fnexttoken
+crlf
+fatendofline
+prfalse
+handlememoryfailure
+handlememoryfailure
+nsimapgenericparser
+advancetokenizerstartingpoint
+int
+bytestoadvance
+print
+startingdiff
+flineoftokens
+fstartoflineoftokens
+print
+nexttokenoffset
+nexttokenoffset
+fnexttoken
+fstartoflineoftokens
+prfreeif
+fstartoflineoftokens
+fcurrentline
+fstartoflineoftokens
+plstrdup
+fcurrentline
+fnexttoken
+fstartoflineoftokens
+nexttokenoffset
+fstartoflineoftokens
+int
+strlen
+fstartoflineoftokens
+bytestoadvance
+flineoftokens
+fstartoflineoftokens
+bytestoadvance
+startingdiff
+fcurrenttokenplaceholder
+flineoftokens
+ftokenizeradvanced
+prtrue
+handlememoryfailure
+handlememoryfailure
+nsimapgenericparser
+createastring
+fnexttoken
+createliteral
+fnexttoken
+createquoted
+createatom
+nsimapgenericparser
+createatom
+rv
+plstrdup
+fnexttoken
+rv
+nsimapgenericparser
+createnilstring
+plstrncasecmp
+fnexttoken
+nil
+strlen
+fnexttoken
+fnexttoken
+createstring
+nsimapgenericparser
+createstring
+fnexttoken
+rv
+createliteral
+rv
+fnexttoken
+rv
+createquoted
+rv
+setsyntaxerror
+prtrue
+nsimapgenericparser
+createquoted
+prbool
+currentchar
+fcurrentline
+fnexttoken
+fstartoflineoftokens
+charindex
+tokenindex
+prbool
+closequotefound
+prfalse
+nscstring
+returnstring
+currentchar
+closequotefound
+continueparse
+returnstring
+charat
+charindex
+advancetonextline
+returnstring
+fcurrentline
+charindex
+returnstring
+charat
+charindex
+closequotefound
+prtrue
+returnstring
+charat
+charindex
+returnstring
+cut
+charindex
+charindex
+tokenindex
+charindex
+closequotefound
+returnstring
+truncate
+charindex
+charindex
+strlen
+fnexttoken
+advancetokenizerstartingpoint
+fnexttoken
+flineoftokens
+returnstring
+length
+nscrt
+strcmp
+flineoftokens
+crlf
+fatendofline
+prtrue
+fcurrenttokenplaceholder
+tokenindex
+charindex
+strlen
+fnexttoken
+fcurrenttokenplaceholder
+fcurrenttokenplaceholder
+nsassertion
+prfalse
+didn
+find
+close
+quote
+tonewcstring
+returnstring
+nsimapgenericparser
+createliteral
+int
+numberofcharsinmessage
+atoi
+fnexttoken
+int
+charsreadsofar
+currentlinelength
+int
+bytestocopy
+uint
+numbytes
+numberofcharsinmessage
+nsassertion
+numbytes
+overflow
+numbytes
+nsnull
+returnstring
+prmalloc
+numbytes
+returnstring
+returnstring
+numberofcharsinmessage
+prbool
+terminatedline
+prfalse
+continueparse
+charsreadsofar
+numberofcharsinmessage
+terminatedline
+fcurrenttokenplaceholder
+fcurrenttokenplaceholder
+nscrt
+lf
+fcurrenttokenplaceholder
+fcurrenttokenplaceholder
+terminatedline
+prtrue
+advancetonextline
+advancetonextline
+continueparse
+currentlinelength
+strlen
+terminatedline
+fcurrentline
+fcurrenttokenplaceholder
+bytestocopy
+currentlinelength
+numberofcharsinmessage
+charsreadsofar
+numberofcharsinmessage
+charsreadsofar
+currentlinelength
+nsassertion
+bytestocopy
+length
+literal
+memcpy
+returnstring
+charsreadsofar
+terminatedline
+fcurrentline
+fcurrenttokenplaceholder
+bytestocopy
+charsreadsofar
+bytestocopy
+continueparse
+bytestocopy
+skiptocrlf
+fatendofline
+prtrue
+currentlinelength
+bytestocopy
+fatendofline
+prtrue
+terminatedline
+advancetokenizerstartingpoint
+bytestocopy
+advancetokenizerstartingpoint
+bytestocopy
+strlen
+fnexttoken
+fnexttoken
+flineoftokens
+fcurrenttokenplaceholder
+fcurrenttokenplaceholder
+nscrt
+strcmp
+fcurrenttokenplaceholder
+crlf
+fatendofline
+prtrue
+returnstring
+nsimapgenericparser
+createparengroup
+ifdef
+debugbienvenu
+nsassertion
+fnexttoken
+we
+don
+have
+paren
+group
+endif
+numopenparens
+nscstring
+buf
+nscstring
+returnstring
+bytesused
+count
+tokenlen
+strlen
+fnexttoken
+count
+count
+tokenlen
+numopenparens
+count
+fnexttoken
+count
+numopenparens
+fnexttoken
+count
+numopenparens
+numopenparens
+continueparse
+returnstring
+fnexttoken
+returnstring
+append
+prbool
+extractreset
+prtrue
+extractreset
+continueparse
+extractreset
+prfalse
+len
+strlen
+fcurrenttokenplaceholder
+count
+count
+len
+numopenparens
+extractreset
+count
+fcurrenttokenplaceholder
+fnexttoken
+getnexttoken
+nsassertion
+fnexttoken
+out
+of
+memory
+invalid
+syntax
+fnexttoken
+tokenlen
+strlen
+fnexttoken
+fnexttoken
+tokenlen
+bytesused
+buf
+truncate
+bytesused
+returnstring
+append
+buf
+buf
+truncate
+bytesused
+returnstring
+append
+fnexttoken
+returnstring
+append
+crlf
+lit
+createliteral
+ftokenizeradvanced
+prfalse
+nsassertion
+lit
+syntax
+error
+out
+of
+memory
+lit
+returnstring
+append
+lit
+extractreset
+prtrue
+prfree
+lit
+ifdef
+debugbienvenu
+nsassertion
+prfalse
+syntax
+error
+creating
+paren
+group
+endif
+fcurrenttokenplaceholder
+bytesused
+buf
+truncate
+bytesused
+returnstring
+append
+buf
+buf
+truncate
+bytesused
+fnexttoken
+getnexttoken
+nsassertion
+fnexttoken
+syntax
+error
+out
+of
+memory
+creating
+paren
+group
+fnexttoken
+createquoted
+ftokenizeradvanced
+prfalse
+nsassertion
+syntax
+error
+out
+of
+memory
+creating
+paren
+group
+returnstring
+append
+returnstring
+append
+returnstring
+append
+extractreset
+prtrue
+prfree
+fcurrenttokenplaceholder
+numopenparens
+fcurrenttokenplaceholder
+numopenparens
+extractreset
+buf
+fcurrenttokenplaceholder
+bytesused
+fcurrenttokenplaceholder
+numopenparens
+continueparse
+buf
+append
+fnexttoken
+numopenparens
+continueparse
+setsyntaxerror
+prtrue
+returnstring
+setlength
+bytesused
+buf
+truncate
+bytesused
+returnstring
+append
+buf
+buf
+truncate
+fnexttoken
+getnexttoken
+tonewcstring
+returnstring nsresult
\ No newline at end of file
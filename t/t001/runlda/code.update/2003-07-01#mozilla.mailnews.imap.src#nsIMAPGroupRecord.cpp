@@ -0,0 +1,122 @@
+nsimapgrouprecord
+plstr
+prmem
+msggroupnameflagimapnoselect
+nsimapgrouprecord
+nsimapgrouprecord
+create
+nsimapgrouprecord
+parent
+foldername
+delimiter
+prbool
+filledingroup
+prbool
+folderisnamespace
+tmp
+partname
+nsimapgrouprecord
+result
+foldername
+tmp
+plstrdup
+foldername
+partname
+plstrrchr
+tmp
+partname
+delimiter
+folderisnamespace
+partname
+tmp
+partname
+ifdef
+debugslowandparanoid
+parent
+mpartname
+parentname
+parent
+getfullname
+prassert
+partname
+tmp
+partname
+mdelimiter
+partname
+prassert
+plstrcmp
+parentname
+tmp
+partname
+mdelimiter
+parentname
+parentname
+prassert
+partname
+tmp
+endif
+result
+nsimapgrouprecord
+createfrompartname
+parent
+partname
+delimiter
+filledingroup
+result
+result
+mflags
+result
+setfolderisnamespace
+folderisnamespace
+prfree
+tmp
+result
+nsimapgrouprecord
+nsimapgrouprecord
+createfrompartname
+nsimapgrouprecord
+parent
+partname
+delimiter
+prbool
+filledingroup
+nsimapgrouprecord
+result
+nsimapgrouprecord
+parent
+partname
+delimiter
+filledingroup
+result
+partname
+result
+mpartname
+result
+result
+result
+initializesibling
+result
+nsimapgrouprecord
+nsimapgrouprecord
+nsimapgrouprecord
+parent
+partname
+delimiter
+prbool
+filledingroup
+nsmsggrouprecord
+parent
+partname
+mflags
+mallgrandchildrendiscovered
+prfalse
+mfilledingroup
+filledingroup
+monlinedelimiter
+delimiter
+prbool
+nsimapgrouprecord
+getcantogglesubscribe
+getfolderisnamespace
+getflags
+msggroupnameflagimapnoselect
\ No newline at end of file
@@ -0,0 +1,546 @@
+msgcore
+nsimapcore
+nsimapflaganduidstate
+prcmon
+nspr
+nsautolock
+nsimplthreadsafeisupports
+nsimapflaganduidstate
+nsiimapflaganduidstate
+nsimethodimp
+nsimapflaganduidstate
+getnumberofmessages
+print
+result
+result
+nserrornullpointer
+result
+fnumberofmessagesadded
+nsok
+nsimethodimp
+nsimapflaganduidstate
+getuidofmessage
+print
+zerobasedindex
+pruint
+result
+result
+nserrornullpointer
+prcentermonitor
+zerobasedindex
+fnumberofmessagesadded
+result
+fuids
+zerobasedindex
+result
+xffffffff
+prcexitmonitor
+nsok
+nsimethodimp
+nsimapflaganduidstate
+getmessageflags
+print
+zerobasedindex
+pruint
+result
+result
+nserrornullpointer
+imapmessageflagstype
+returnflags
+knoimapmsgflag
+zerobasedindex
+fnumberofmessagesadded
+returnflags
+fflags
+zerobasedindex
+result
+returnflags
+nsok
+nsimethodimp
+nsimapflaganduidstate
+getnumberofrecentmessages
+print
+result
+result
+nserrornullpointer
+prcentermonitor
+pruint
+counter
+print
+numunseenmessages
+counter
+counter
+pruint
+fnumberofmessagesadded
+counter
+fflags
+counter
+kimapmsgrecentflag
+numunseenmessages
+prcexitmonitor
+result
+numunseenmessages
+nsok
+nsimapflaganduidstate
+nsimapflaganduidstate
+print
+numberofmessages
+pruint
+flags
+fnumberofmessagesadded
+fnumberofmessageslotsallocated
+numberofmessages
+fnumberofmessageslotsallocated
+fnumberofmessageslotsallocated
+kimapflaganduidstatesize
+fflags
+imapmessageflagstype
+prmalloc
+imapmessageflagstype
+fnumberofmessageslotsallocated
+fuids
+setsize
+fnumberofmessageslotsallocated
+memset
+fflags
+imapmessageflagstype
+fnumberofmessageslotsallocated
+fsupporteduserflags
+flags
+fnumberdeleted
+mcustomflagshash
+nsnull
+nsimapflaganduidstate
+nsimapflaganduidstate
+nsimapflaganduidstate
+state
+uint
+flags
+fnumberofmessagesadded
+state
+fnumberofmessagesadded
+fnumberofmessageslotsallocated
+state
+fnumberofmessageslotsallocated
+fflags
+imapmessageflagstype
+prmalloc
+imapmessageflagstype
+fnumberofmessageslotsallocated
+fuids
+copyarray
+nsmsgkeyarray
+state
+fuids
+memcpy
+fflags
+state
+fflags
+imapmessageflagstype
+fnumberofmessageslotsallocated
+fsupporteduserflags
+flags
+fnumberdeleted
+mcustomflagshash
+nsnull
+prbool
+prcallback
+nsimapflaganduidstate
+freecustomflags
+nshashkey
+akey
+adata
+closure
+prfree
+adata
+prtrue
+nsimapflaganduidstate
+nsimapflaganduidstate
+prfreeif
+fflags
+mcustomflagshash
+mcustomflagshash
+reset
+freecustomflags
+nsnull
+mcustomflagshash
+nsimethodimp
+nsimapflaganduidstate
+setsupporteduserflags
+uint
+flags
+fsupporteduserflags
+flags
+nsok
+nsimethodimp
+nsimapflaganduidstate
+reset
+pruint
+howmanyleft
+prcentermonitor
+howmanyleft
+fnumberofmessagesadded
+fnumberdeleted
+mcustomflagshash
+mcustomflagshash
+reset
+freecustomflags
+nsnull
+prcexitmonitor
+nsok
+nsimethodimp
+nsimapflaganduidstate
+expungebyindex
+pruint
+msgindex
+print
+msgindex
+nserrorinvalidarg
+pruint
+counter
+pruint
+fnumberofmessagesadded
+msgindex
+nserrorinvalidarg
+prcentermonitor
+msgindex
+fnumberofmessagesadded
+fflags
+msgindex
+kimapmsgdeletedflag
+fnumberdeleted
+counter
+msgindex
+counter
+pruint
+fnumberofmessagesadded
+counter
+fuids
+setat
+counter
+fuids
+counter
+fflags
+counter
+fflags
+counter
+prcexitmonitor
+nsok
+nsimethodimp
+nsimapflaganduidstate
+adduidflagpair
+pruint
+uid
+imapmessageflagstype
+flags
+uid
+nsmsgkeynone
+nsok
+prcentermonitor
+fnumberofmessagesadded
+fnumberofmessageslotsallocated
+fnumberofmessageslotsallocated
+kimapflaganduidstatesize
+fuids
+setsize
+fnumberofmessageslotsallocated
+fflags
+imapmessageflagstype
+prrealloc
+fflags
+imapmessageflagstype
+fnumberofmessageslotsallocated
+fnumberofmessagesadded
+uid
+pruint
+fuids
+fnumberofmessagesadded
+fuids
+setat
+fnumberofmessagesadded
+uid
+fflags
+fnumberofmessagesadded
+flags
+fnumberofmessagesadded
+flags
+kimapmsgdeletedflag
+fnumberdeleted
+prcexitmonitor
+nsok
+print
+insertionindex
+prbool
+foundit
+prfalse
+getmessageflagsfromuid
+uid
+foundit
+insertionindex
+pruint
+fuids
+insertionindex
+uid
+print
+shiftindex
+fnumberofmessagesadded
+shiftindex
+insertionindex
+shiftindex
+fuids
+setat
+shiftindex
+fuids
+shiftindex
+fflags
+shiftindex
+fflags
+shiftindex
+fflags
+insertionindex
+flags
+fuids
+setat
+insertionindex
+uid
+fnumberofmessagesadded
+fflags
+insertionindex
+kimapmsgdeletedflag
+fnumberdeleted
+fflags
+insertionindex
+kimapmsgdeletedflag
+flags
+kimapmsgdeletedflag
+fnumberdeleted
+fflags
+insertionindex
+kimapmsgdeletedflag
+flags
+kimapmsgdeletedflag
+fnumberdeleted
+fflags
+insertionindex
+flags
+prcexitmonitor
+nsok
+print
+nsimapflaganduidstate
+getnumberofdeletedmessages
+fnumberdeleted
+pruint
+nsimapflaganduidstate
+gethighestnondeleteduid
+pruint
+msgindex
+fnumberofmessagesadded
+msgindex
+msgindex
+fuids
+msgindex
+fflags
+msgindex
+kimapmsgdeletedflag
+fuids
+msgindex
+msgindex
+prbool
+nsimapflaganduidstate
+islastmessageunseen
+pruint
+msgindex
+fnumberofmessagesadded
+msgindex
+prfalse
+msgindex
+fuids
+msgindex
+fflags
+msgindex
+kimapmsgseenflag
+kimapmsgdeletedflag
+prfalse
+prtrue
+imapmessageflagstype
+nsimapflaganduidstate
+getmessageflagsfromuid
+pruint
+uid
+prbool
+foundit
+print
+ndx
+prcentermonitor
+print
+msgindex
+print
+hi
+fnumberofmessagesadded
+print
+lo
+foundit
+prfalse
+ndx
+lo
+hi
+msgindex
+lo
+hi
+fuids
+msgindex
+pruint
+uid
+print
+returnflags
+fflags
+msgindex
+foundit
+prtrue
+ndx
+msgindex
+prcexitmonitor
+returnflags
+fuids
+msgindex
+pruint
+uid
+hi
+msgindex
+fuids
+msgindex
+pruint
+uid
+lo
+msgindex
+msgindex
+lo
+msgindex
+fuids
+msgindex
+pruint
+uid
+msgindex
+pruint
+uid
+fuids
+msgindex
+msgindex
+msgindex
+msgindex
+ndx
+msgindex
+prcexitmonitor
+nsimethodimp
+nsimapflaganduidstate
+adduidcustomflagpair
+pruint
+uid
+customflag
+nsautocmonitor
+mon
+mcustomflagshash
+mcustomflagshash
+nshashtable
+mcustomflagshash
+nserroroutofmemory
+nspruintkey
+hashkey
+uid
+ourcustomflags
+oldvalue
+mcustomflagshash
+get
+hashkey
+oldvalue
+existingcustomflagptr
+plstrstr
+oldvalue
+customflag
+pruint
+customflaglen
+strlen
+customflag
+existingcustomflagptr
+strlen
+existingcustomflagptr
+customflaglen
+existingcustomflagptr
+customflaglen
+nsok
+existingcustomflagptr
+plstrstr
+existingcustomflagptr
+customflag
+ourcustomflags
+prmalloc
+strlen
+oldvalue
+customflaglen
+strcpy
+ourcustomflags
+oldvalue
+strcat
+ourcustomflags
+strcat
+ourcustomflags
+customflag
+prfree
+oldvalue
+mcustomflagshash
+remove
+hashkey
+ourcustomflags
+nscrt
+strdup
+customflag
+ourcustomflags
+nserroroutofmemory
+mcustomflagshash
+put
+hashkey
+ourcustomflags
+nsok
+nserroroutofmemory
+nsimethodimp
+nsimapflaganduidstate
+getcustomflags
+pruint
+uid
+customflags
+nsautocmonitor
+mon
+mcustomflagshash
+nspruintkey
+hashkey
+uid
+value
+mcustomflagshash
+get
+hashkey
+value
+customflags
+nscrt
+strdup
+value
+customflags
+nsok
+nserrorfailure
+customflags
+nsnull
+nsok
+nsimethodimp
+nsimapflaganduidstate
+clearcustomflags
+pruint
+uid
+nsautocmonitor
+mon
+mcustomflagshash
+nspruintkey
+hashkey
+uid
+mcustomflagshash
+remove
+hashkey
+nsok
\ No newline at end of file
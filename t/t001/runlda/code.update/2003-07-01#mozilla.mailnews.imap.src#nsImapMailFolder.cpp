@@ -0,0 +1,12646 @@
+msgcore
+nsmsgimapcid
+nsimapmailfolder
+nsienumerator
+nsilocalfile
+nsifolderlistener
+nscomptr
+nsirdfservice
+nsirdfdatasource
+nsrdfcid
+nsfilestream
+nsmsgdbcid
+nsmsgfolderflags
+nslocalfoldersummaryspec
+nsimapflaganduidstate
+nsieventqueueservice
+nsiimapurl
+nsimaputils
+nsmsgutils
+nsimsgmailsession
+nsmsgbasecid
+nsmsglocalcid
+nsimapundotxn
+nsiimaphostsessionlist
+nsimsgcopyservice
+nsicopymsgstreamlistener
+nsimapstringbundle
+nsimsgfoldercacheelement
+nstextformatter
+nsiprefbranch
+nsiprefservice
+nsmsgutfutils
+nsicachesession
+nsescape
+nsimsgfilter
+nsimapmovecoalescer
+nsiprompt
+nsidocshell
+nsiinterfacerequestor
+nsiinterfacerequestorutils
+nsspecialsystemdirectory
+nsxpidlstring
+nsreadableutils
+nsunicharutils
+nsiimapflaganduidstate
+nsiimapheaderxferinfo
+nsimessenger
+nsimsgsearchadapter
+nsiimapmockchannel
+nsiprogresseventsink
+nsimsgwindow
+nsimsgfolder
+nsimsgofflineimapoperation
+nsimapofflinesync
+nsimsgaccountmanager
+nsquicksort
+nsiimapmockchannel
+nsiwebnavigation
+nsnetutil
+nsimapnamespace
+nshashtable
+nsmsgmessageflags
+nsimimeheaders
+nsimsgmdngenerator
+nsispamsettings
+time
+nsdefinecid
+krdfservicecid
+nsrdfservicecid
+nsdefinecid
+kcmaildb
+nsmaildbcid
+nsdefinecid
+kimapprotocolcid
+nsimapprotocolcid
+nsdefinecid
+kcimapdb
+nsimapdbcid
+nsdefinecid
+keventqueueservicecid
+nseventqueueservicecid
+nsdefinecid
+kparsemailmsgstatecid
+nsparsemailmsgstatecid
+nsdefinecid
+kcimaphostsessionlist
+nsiimaphostsessionlistcid
+nsiatom
+nsimapmailfolder
+mimaphdrdownloadedatom
+nsnull
+define
+fourk
+define
+mailnewscustomheaders
+mailnews
+customheaders
+nsresult
+recursivecopy
+nsifile
+srcdir
+nsifile
+destdir
+nsresult
+rv
+prbool
+isdir
+rv
+srcdir
+isdirectory
+isdir
+nsfailed
+rv
+rv
+isdir
+nserrorinvalidarg
+prbool
+exists
+rv
+destdir
+exists
+exists
+nssucceeded
+rv
+exists
+rv
+destdir
+create
+nsifile
+directorytype
+nsfailed
+rv
+rv
+prbool
+hasmore
+prfalse
+nscomptr
+nsisimpleenumerator
+diriterator
+rv
+srcdir
+getdirectoryentries
+getteraddrefs
+diriterator
+nsfailed
+rv
+rv
+rv
+diriterator
+hasmoreelements
+hasmore
+nsfailed
+rv
+rv
+nscomptr
+nsifile
+direntry
+hasmore
+rv
+diriterator
+getnext
+nsisupports
+getteraddrefs
+direntry
+nssucceeded
+rv
+rv
+direntry
+isdirectory
+isdir
+nssucceeded
+rv
+isdir
+nscomptr
+nsifile
+destclone
+rv
+destdir
+clone
+getteraddrefs
+destclone
+nssucceeded
+rv
+nscomptr
+nsilocalfile
+newchild
+doqueryinterface
+destclone
+nsautostring
+leafname
+direntry
+getleafname
+leafname
+newchild
+appendrelativepath
+leafname
+rv
+newchild
+exists
+exists
+nssucceeded
+rv
+exists
+rv
+newchild
+create
+nsifile
+directorytype
+rv
+recursivecopy
+direntry
+newchild
+rv
+direntry
+copyto
+destdir
+nsstring
+rv
+diriterator
+hasmoreelements
+hasmore
+nsfailed
+rv
+rv
+rv
+nsimapmailfolder
+nsimapmailfolder
+minitialized
+prfalse
+mhavediscoveredallfolders
+prfalse
+mhavereadnamefromdb
+prfalse
+mcurmsguid
+mnextmessagebytelength
+murlrunning
+prfalse
+mverifiedasonlinefolder
+prfalse
+mexplicitlyverify
+prfalse
+mfolderneedssubscribing
+prfalse
+mfolderneedsadded
+prfalse
+mfolderneedsacllisted
+prtrue
+mperformingbiff
+prfalse
+mfolderquotacommandissued
+prfalse
+mfolderquotadataisvalid
+prfalse
+mdownloadmessageforofflineuse
+prfalse
+mdownloadingfolderforofflineuse
+prfalse
+mfolderquotausedkb
+mfolderquotamaxkb
+mozcountctor
+nsimapmailfolder
+mimaphdrdownloadedatom
+nsnull
+mimaphdrdownloadedatom
+nsnewatom
+imaphdrdownloaded
+mappendmsgmonitor
+nsnull
+nsresult
+rv
+nscomptr
+nsieventqueueservice
+peventqservice
+dogetservice
+keventqueueservicecid
+rv
+nssucceeded
+rv
+peventqservice
+peventqservice
+getthreadeventqueue
+nscurrentthread
+getteraddrefs
+meventqueue
+mmovecoalescer
+nsnull
+mboxflags
+muidvalidity
+mhierarchydelimiter
+konlinehierarchyseparatorunknown
+mpathname
+nsnull
+mfolderacl
+nsnull
+mnamespace
+nsnull
+mnumfilterclassifyrequests
+nsimapmailfolder
+nsimapmailfolder
+mozcountdtor
+nsimapmailfolder
+mappendmsgmonitor
+prdestroymonitor
+mappendmsgmonitor
+minstancecount
+nsifrelease
+mimaphdrdownloadedatom
+nsifrelease
+mmovecoalescer
+mpathname
+mfolderacl
+nsimpladdrefinherited
+nsimapmailfolder
+nsmsgdbfolder
+nsimplreleaseinherited
+nsimapmailfolder
+nsmsgdbfolder
+nsimplqueryhead
+nsimapmailfolder
+nsimplquerybody
+nsimsgimapmailfolder
+nsimplquerybody
+nsicopymessagelistener
+nsimplquerybody
+nsiimapmailfoldersink
+nsimplquerybody
+nsiimapmessagesink
+nsimplquerybody
+nsiimapextensionsink
+nsimplquerybody
+nsiimapmiscellaneoussink
+nsimplquerybody
+nsiurllistener
+nsimplquerybody
+nsimsgfilterhitnotify
+nsimplquerybody
+nsijunkmailclassificationlistener
+nsimplquerytailinheriting
+nsmsgdbfolder
+nsimethodimp
+nsimapmailfolder
+enumerate
+nsienumerator
+result
+nsresult
+rv
+nsok
+nsienumerator
+folders
+nsienumerator
+messages
+rv
+getsubfolders
+folders
+nsfailed
+rv
+rv
+rv
+getmessages
+nsnull
+messages
+nsfailed
+rv
+rv
+nsnewconjoiningenumerator
+folders
+messages
+nsibidirectionalenumerator
+result
+endif
+nsassertion
+prfalse
+obsolete
+right
+nserrorfailure
+nsresult
+nsimapmailfolder
+adddirectoryseparator
+nsfilespec
+path
+nsresult
+rv
+nsok
+nscrt
+strcmp
+muri
+kimaprooturi
+nsautostring
+sep
+rv
+nsgetmailfolderseparator
+sep
+nsfailed
+rv
+rv
+nsautostring
+str
+str
+assignwithconversion
+nsstaticcast
+nsfilepath
+path
+str
+sep
+path
+nsfilepath
+str
+rv
+prbool
+nsshouldignorefile
+nsstring
+name
+print
+len
+name
+length
+len
+name
+rfind
+msf
+prtrue
+len
+name
+setlength
+len
+prfalse
+prtrue
+nsimethodimp
+nsimapmailfolder
+addsubfolderwithpath
+nsautostring
+name
+nsifilespec
+dbpath
+nsimsgfolder
+child
+child
+nserrornullpointer
+nsresult
+rv
+nsok
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+krdfservicecid
+rv
+nsfailed
+rv
+rv
+print
+flags
+nsautostring
+uri
+uri
+appendwithconversion
+muri
+uri
+append
+prunichar
+uri
+append
+name
+uristr
+tonewcstring
+uri
+uristr
+nsnull
+nserroroutofmemory
+nscomptr
+nsimsgfolder
+msgfolder
+rv
+getchildwithuri
+uristr
+prfalse
+prfalse
+getteraddrefs
+msgfolder
+nssucceeded
+rv
+msgfolder
+nsmemory
+free
+uristr
+nsmsgfolderexists
+nscomptr
+nsirdfresource
+res
+rv
+rdf
+getunicoderesource
+uri
+getteraddrefs
+res
+nsfailed
+rv
+rv
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+res
+rv
+nsfailed
+rv
+rv
+folder
+setpath
+dbpath
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+doqueryinterface
+folder
+folder
+getflags
+pruint
+flags
+folder
+setparent
+nsmemory
+free
+uristr
+flags
+msgfolderflagmail
+prbool
+isserver
+rv
+getisserver
+isserver
+print
+pflags
+getflags
+pruint
+pflags
+prbool
+isparentinbox
+pflags
+msgfolderflaginbox
+nssucceeded
+rv
+isserver
+name
+equals
+nsliteralstring
+inbox
+nscaseinsensitivestringcomparator
+flags
+msgfolderflaginbox
+isserver
+isparentinbox
+nsautostring
+trashname
+gettrashfoldername
+trashname
+name
+equals
+trashname
+flags
+msgfolderflagtrash
+name
+equalsignorecase
+nsliteralstring
+sent
+folder
+setflag
+msgfolderflagsentmail
+name
+equalsignorecase
+nsliteralstring
+drafts
+folder
+setflag
+msgfolderflagdrafts
+name
+equalsignorecase
+nsliteralstring
+templates
+folder
+setflag
+msgfolderflagtemplates
+endif
+folder
+setflags
+flags
+rv
+nsok
+nscomptr
+nsisupports
+supports
+doqueryinterface
+folder
+nsassertion
+supports
+couldn
+get
+isupports
+from
+imap
+folder
+supports
+msubfolders
+appendelement
+supports
+child
+folder
+nsifaddref
+child
+rv
+nsresult
+nsimapmailfolder
+createsubfolders
+nsfilespec
+path
+nsresult
+rv
+nsok
+nsautostring
+currentfoldernamestr
+nsautostring
+currentfolderdbnamestr
+nscomptr
+nsimsgfolder
+child
+nscomptr
+nsimsgincomingserver
+server
+nscomptr
+nsiimapincomingserver
+imapserver
+nssucceeded
+getserver
+getteraddrefs
+server
+server
+imapserver
+doqueryinterface
+server
+prbool
+isserver
+rv
+getisserver
+isserver
+foldername
+nsdirectoryiterator
+dir
+path
+prfalse
+dir
+exists
+dir
+nsfilespec
+currentfolderpath
+dir
+spec
+foldername
+currentfolderpath
+getleafname
+currentfoldernamestr
+assignwithconversion
+foldername
+isserver
+imapserver
+prbool
+ispfc
+imapserver
+getispfc
+foldername
+ispfc
+ispfc
+nscomptr
+nsimsgfolder
+pfcfolder
+imapserver
+getpfc
+prtrue
+getteraddrefs
+pfcfolder
+nsshouldignorefile
+currentfoldernamestr
+plstrfree
+foldername
+nscomptr
+nsimsgfoldercacheelement
+cacheelement
+nscomptr
+nsifilespec
+curfolder
+nscomptr
+nsifilespec
+dbfile
+nsnewfilespecwithspec
+currentfolderpath
+getteraddrefs
+dbfile
+currentfolderpath
+setleafname
+foldername
+rv
+nsnewfilespecwithspec
+currentfolderpath
+getteraddrefs
+curfolder
+currentfolderdbnamestr
+currentfoldernamestr
+nsautostring
+utfleafname
+currentfoldernamestr
+nssucceeded
+rv
+curfolder
+rv
+getfoldercacheelemfromfilespec
+dbfile
+getteraddrefs
+cacheelement
+nssucceeded
+rv
+cacheelement
+nsxpidlstring
+unicodename
+nsxpidlcstring
+onlinefullutfname
+rv
+cacheelement
+getstringproperty
+onlinename
+gettercopies
+onlinefullutfname
+nssucceeded
+rv
+onlinefullutfname
+get
+strlen
+onlinefullutfname
+get
+imapserver
+prbool
+hidefolder
+rv
+imapserver
+hidefoldername
+onlinefullutfname
+get
+hidefolder
+hidefolder
+rv
+imapserver
+convertfoldername
+onlinefullutfname
+get
+gettercopies
+unicodename
+nsfailed
+rv
+imapserver
+createprunicharstringfromutf
+onlinefullutfname
+gettercopies
+unicodename
+currentfoldernamestr
+assign
+unicodename
+prunichar
+delimiter
+gethierarchydelimiter
+delimiter
+print
+leafpos
+currentfoldernamestr
+rfindchar
+delimiter
+leafpos
+currentfoldernamestr
+cut
+leafpos
+utfleafname
+assignwithconversion
+onlinefullutfname
+leafpos
+utfleafname
+rfindchar
+delimiter
+leafpos
+utfleafname
+cut
+leafpos
+nscautostring
+leafname
+leafname
+assignwithconversion
+currentfolderdbnamestr
+nscomptr
+nsifilespec
+msffilespec
+rv
+nsnewfilespecwithspec
+currentfolderpath
+getteraddrefs
+msffilespec
+nssucceeded
+rv
+msffilespec
+msffilespec
+setleafname
+leafname
+get
+addsubfolderwithpath
+utfleafname
+msffilespec
+getteraddrefs
+child
+child
+currentfoldernamestr
+isempty
+child
+setprettyname
+currentfoldernamestr
+get
+plstrfree
+foldername
+rv
+nsimethodimp
+nsimapmailfolder
+getsubfolders
+nsienumerator
+result
+prbool
+isserver
+nsresult
+rv
+getisserver
+isserver
+minitialized
+nscomptr
+nsifilespec
+pathspec
+rv
+getpath
+getteraddrefs
+pathspec
+nsfailed
+rv
+rv
+nsfilespec
+path
+rv
+pathspec
+getfilespec
+path
+nsfailed
+rv
+rv
+nssucceeded
+rv
+isserver
+rv
+adddirectoryseparator
+path
+nsfailed
+rv
+rv
+minitialized
+prtrue
+print
+newflags
+msgfolderflagmail
+path
+isdirectory
+newflags
+msgfolderflagdirectory
+msgfolderflagelided
+misserver
+setflag
+newflags
+rv
+createsubfolders
+path
+isserver
+pruint
+numfolders
+nscomptr
+nsimsgfolder
+inboxfolder
+rv
+getfolderswithflag
+msgfolderflaginbox
+numfolders
+getteraddrefs
+inboxfolder
+nsfailed
+rv
+numfolders
+inboxfolder
+createclientsubfolderinfo
+inbox
+konlinehierarchyseparatorunknown
+prtrue
+updatesummarytotals
+prfalse
+nsfailed
+rv
+rv
+rv
+msubfolders
+enumerate
+result
+rv
+nsimethodimp
+nsimapmailfolder
+addunique
+nsisupports
+element
+nsresult
+rv
+nserrorfailure
+rv
+nsimethodimp
+nsimapmailfolder
+replaceelement
+nsisupports
+element
+nsisupports
+newelement
+nsresult
+rv
+nserrorfailure
+rv
+nsresult
+nsimapmailfolder
+getdatabase
+nsimsgwindow
+amsgwindow
+nsresult
+folderopen
+nsok
+mdatabase
+nscomptr
+nsifilespec
+pathspec
+nsresult
+rv
+getpath
+getteraddrefs
+pathspec
+nsfailed
+rv
+rv
+nscomptr
+nsimsgdatabase
+maildbfactory
+rv
+nscomponentmanager
+createinstance
+kcimapdb
+nsnull
+nsgetiid
+nsimsgdatabase
+getteraddrefs
+maildbfactory
+nssucceeded
+rv
+maildbfactory
+folderopen
+maildbfactory
+openfolderdb
+prtrue
+prfalse
+getteraddrefs
+mdatabase
+folderopen
+nsmsgerrorfoldersummarymissing
+folderopen
+nsmsgerrorfoldersummaryoutofdate
+folderopen
+maildbfactory
+openfolderdb
+prtrue
+prtrue
+getteraddrefs
+mdatabase
+mdatabase
+maddlistener
+mdatabase
+addlistener
+updatesummarytotals
+prtrue
+folderopen
+nsimethodimp
+nsimapmailfolder
+updatefolder
+nsimsgwindow
+msgwindow
+nsresult
+rv
+nserrornullpointer
+prbool
+selectfolder
+prfalse
+mflags
+msgfolderflaginbox
+mfilterlist
+rv
+getfilterlist
+msgwindow
+getteraddrefs
+mfilterlist
+mfilterlist
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserver
+getteraddrefs
+server
+nsassertion
+nssucceeded
+rv
+failed
+to
+get
+server
+prbool
+canfilemessagesonserver
+prtrue
+server
+rv
+server
+getcanfilemessagesonserver
+canfilemessagesonserver
+nsassertion
+nssucceeded
+rv
+failed
+to
+determine
+we
+could
+file
+messages
+on
+server
+canfilemessagesonserver
+rv
+server
+configuretemporaryreturnreceiptsfilter
+mfilterlist
+nsassertion
+nssucceeded
+rv
+failed
+to
+add
+mdn
+filter
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nsfailed
+rv
+rv
+selectfolder
+prtrue
+prbool
+isserver
+rv
+getisserver
+isserver
+nssucceeded
+rv
+isserver
+mhavediscoveredallfolders
+prbool
+hassubfolders
+prfalse
+gethassubfolders
+hassubfolders
+hassubfolders
+rv
+createclientsubfolderinfo
+inbox
+konlinehierarchyseparatorunknown
+prfalse
+nsfailed
+rv
+rv
+mhavediscoveredallfolders
+prtrue
+selectfolder
+prfalse
+rv
+getdatabase
+msgwindow
+prbool
+canopenthisfolder
+prtrue
+getcaniopenthisfolder
+canopenthisfolder
+prbool
+hasofflineevents
+prfalse
+getflag
+msgfolderflagofflineevents
+hasofflineevents
+hasofflineevents
+weareoffline
+nsimapofflinesync
+goonline
+nsimapofflinesync
+msgwindow
+goonline
+goonline
+processnextoperation
+canopenthisfolder
+selectfolder
+prfalse
+nssucceeded
+rv
+murlrunning
+selectfolder
+nscomptr
+nsieventqueue
+eventq
+nscomptr
+nsieventqueueservice
+peventqservice
+dogetservice
+keventqueueservicecid
+rv
+nssucceeded
+rv
+peventqservice
+peventqservice
+getthreadeventqueue
+nscurrentthread
+getteraddrefs
+eventq
+rv
+imapservice
+selectfolder
+eventq
+msgwindow
+nsnull
+rv
+nsmsgerroroffline
+msgwindow
+autocompact
+msgwindow
+nsbindingaborted
+rv
+nsok
+notifyfolderevent
+mfolderloadedatom
+nssucceeded
+rv
+murlrunning
+notifyfolderevent
+mfolderloadedatom
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsimapmailfolder
+getmessages
+nsimsgwindow
+amsgwindow
+nsisimpleenumerator
+result
+result
+result
+nsnull
+mdatabase
+getdatabase
+nsnull
+mdatabase
+mdatabase
+enumeratemessages
+result
+nserrorunexpected
+nsimethodimp
+nsimapmailfolder
+createsubfolder
+prunichar
+foldername
+nsimsgwindow
+msgwindow
+nsresult
+rv
+nserrornullpointer
+foldername
+rv
+nsautostring
+trashname
+gettrashfoldername
+trashname
+nsdependentstring
+foldername
+equals
+trashname
+throwalertmsg
+folderexists
+msgwindow
+nsmsgfolderexists
+nsdependentstring
+foldername
+equals
+nsliteralstring
+inbox
+nscaseinsensitivestringcomparator
+throwalertmsg
+folderexists
+msgwindow
+nsmsgfolderexists
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+imapservice
+createfolder
+meventqueue
+foldername
+nsnull
+rv
+nsimethodimp
+nsimapmailfolder
+createclientsubfolderinfo
+foldername
+prunichar
+hierarchydelimiter
+print
+flags
+prbool
+suppressnotification
+nsresult
+rv
+nsok
+nscomptr
+nsifilespec
+pathspec
+rv
+getpath
+getteraddrefs
+pathspec
+nsfailed
+rv
+rv
+nsfilespec
+path
+rv
+pathspec
+getfilespec
+path
+nsfailed
+rv
+rv
+rv
+createdirectoryforfolder
+path
+nsfailed
+rv
+rv
+nsautostring
+leafname
+leafname
+assignwithconversion
+foldername
+nsautostring
+foldernamestr
+nsautostring
+parentname
+leafname
+print
+folderstart
+leafname
+findchar
+folderstart
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+krdfservicecid
+rv
+nscomptr
+nsirdfresource
+res
+nscomptr
+nsimsgimapmailfolder
+parentfolder
+nscautostring
+uri
+muri
+parentname
+right
+leafname
+leafname
+length
+folderstart
+parentname
+truncate
+folderstart
+nscautostring
+safeparentname
+safeparentname
+assignwithconversion
+parentname
+nsmsghashifnecessary
+safeparentname
+path
+safeparentname
+get
+rv
+createdirectoryforfolder
+path
+nsfailed
+rv
+rv
+uri
+append
+uri
+appendwithconversion
+parentname
+rv
+rdf
+getresource
+uri
+getteraddrefs
+res
+nsfailed
+rv
+rv
+parentfolder
+doqueryinterface
+res
+rv
+nsfailed
+rv
+rv
+nscautostring
+leafnamec
+leafnamec
+assignwithconversion
+leafname
+parentfolder
+createclientsubfolderinfo
+leafnamec
+get
+hierarchydelimiter
+flags
+suppressnotification
+foldernamestr
+leafname
+nscomptr
+nsimsgdatabase
+maildbfactory
+nscomptr
+nsimsgfolder
+child
+rv
+nscomponentmanager
+createinstance
+kcmaildb
+nsnull
+nsgetiid
+nsimsgdatabase
+getteraddrefs
+maildbfactory
+nssucceeded
+rv
+maildbfactory
+nscomptr
+nsimsgdatabase
+unuseddb
+nscomptr
+nsifilespec
+dbfilespec
+rv
+createfilespecfordb
+foldername
+path
+getteraddrefs
+dbfilespec
+nsensuresuccess
+rv
+rv
+rv
+maildbfactory
+open
+dbfilespec
+prtrue
+prtrue
+nsimsgdatabase
+getteraddrefs
+unuseddb
+nssucceeded
+rv
+unuseddb
+nscomptr
+nsidbfolderinfo
+folderinfo
+rv
+unuseddb
+getdbfolderinfo
+getteraddrefs
+folderinfo
+rv
+addsubfolderwithpath
+foldernamestr
+dbfilespec
+getteraddrefs
+child
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+doqueryinterface
+child
+imapfolder
+nscautostring
+onlinename
+monlinefoldername
+onlinename
+isempty
+onlinename
+append
+hierarchydelimiter
+onlinename
+appendwithconversion
+foldernamestr
+imapfolder
+setverifiedasonlinefolder
+prtrue
+imapfolder
+setonlinename
+onlinename
+get
+imapfolder
+sethierarchydelimiter
+hierarchydelimiter
+imapfolder
+setboxflags
+flags
+child
+setflag
+msgfolderflagelided
+nsxpidlstring
+unicodename
+rv
+createunicodestringfromutf
+foldername
+gettercopies
+unicodename
+nssucceeded
+rv
+child
+setprettyname
+unicodename
+folderinfo
+nsautostring
+unicodeonlinename
+unicodeonlinename
+assignwithconversion
+onlinename
+get
+folderinfo
+setmailboxname
+unicodeonlinename
+unuseddb
+setsummaryvalid
+prtrue
+unuseddb
+commit
+nsmsgdbcommittype
+klargecommit
+unuseddb
+close
+prtrue
+suppressnotification
+nscomptr
+nsiatom
+foldercreateatom
+nssucceeded
+rv
+child
+nscomptr
+nsisupports
+childsupports
+doqueryinterface
+child
+nscomptr
+nsisupports
+foldersupports
+rv
+queryinterface
+nsgetiid
+nsisupports
+getteraddrefs
+foldersupports
+childsupports
+nssucceeded
+rv
+notifyitemadded
+foldersupports
+childsupports
+folderview
+foldercreateatom
+getteraddrefs
+nsnewatom
+foldercreatecompleted
+child
+notifyfolderevent
+foldercreateatom
+foldercreateatom
+getteraddrefs
+nsnewatom
+foldercreatefailed
+notifyfolderevent
+foldercreateatom
+rv
+nsimethodimp
+nsimapmailfolder
+list
+nsresult
+rv
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+imapservice
+listfolder
+meventqueue
+nsnull
+nsnull
+rv
+nsimethodimp
+nsimapmailfolder
+removesubfolder
+nsimsgfolder
+which
+nscomptr
+nsisupportsarray
+folders
+nsresult
+rv
+nsnewisupportsarray
+getteraddrefs
+folders
+nsfailed
+rv
+rv
+nscomptr
+nsisupports
+foldersupport
+doqueryinterface
+which
+rv
+nsfailed
+rv
+rv
+folders
+appendelement
+foldersupport
+which
+delete
+nsmsgfolder
+deletesubfolders
+folders
+nsnull
+nsimethodimp
+nsimapmailfolder
+createstorageifmissing
+nsiurllistener
+urllistener
+nsresult
+status
+nsok
+nscomptr
+nsimsgfolder
+msgparent
+getparentmsgfolder
+getteraddrefs
+msgparent
+msgparent
+nscautostring
+foldername
+muri
+print
+leafpos
+foldername
+rfindchar
+nscautostring
+parentname
+foldername
+leafpos
+parentname
+truncate
+leafpos
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+krdfservicecid
+status
+nsfailed
+status
+status
+nscomptr
+nsirdfresource
+resource
+status
+rdf
+getresource
+parentname
+getteraddrefs
+resource
+nsfailed
+status
+status
+msgparent
+doqueryinterface
+resource
+status
+msgparent
+nsxpidlstring
+foldername
+getname
+gettercopies
+foldername
+nsresult
+rv
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nssucceeded
+rv
+imapservice
+nscomptr
+nsiuri
+uri
+imapservice
+ensurefolderexists
+meventqueue
+msgparent
+foldername
+get
+urllistener
+getteraddrefs
+uri
+status
+nsimethodimp
+nsimapmailfolder
+getverifiedasonlinefolder
+prbool
+averifiedasonlinefolder
+averifiedasonlinefolder
+nserrornullpointer
+averifiedasonlinefolder
+mverifiedasonlinefolder
+nsok
+nsimethodimp
+nsimapmailfolder
+setverifiedasonlinefolder
+prbool
+averifiedasonlinefolder
+mverifiedasonlinefolder
+averifiedasonlinefolder
+nsok
+nsimethodimp
+nsimapmailfolder
+getonlinedelimiter
+onlinedelimiter
+onlinedelimiter
+nsresult
+rv
+prunichar
+delimiter
+rv
+gethierarchydelimiter
+delimiter
+nsautostring
+astring
+delimiter
+onlinedelimiter
+tonewcstring
+astring
+rv
+nserrornullpointer
+nsimethodimp
+nsimapmailfolder
+sethierarchydelimiter
+prunichar
+ahierarchydelimiter
+mhierarchydelimiter
+ahierarchydelimiter
+nsok
+nsimethodimp
+nsimapmailfolder
+gethierarchydelimiter
+prunichar
+ahierarchydelimiter
+ahierarchydelimiter
+nserrornullpointer
+readdbfolderinfo
+prfalse
+ahierarchydelimiter
+mhierarchydelimiter
+nsok
+nsimethodimp
+nsimapmailfolder
+setboxflags
+print
+aboxflags
+readdbfolderinfo
+prfalse
+mboxflags
+aboxflags
+pruint
+newflags
+mflags
+newflags
+msgfolderflagimapbox
+mboxflags
+knoinferiors
+newflags
+msgfolderflagimapnoinferiors
+newflags
+msgfolderflagimapnoinferiors
+mboxflags
+knoselect
+newflags
+msgfolderflagimapnoselect
+newflags
+msgfolderflagimapnoselect
+mboxflags
+kpublicmailbox
+newflags
+msgfolderflagimappublic
+newflags
+msgfolderflagimappublic
+mboxflags
+kotherusersmailbox
+newflags
+msgfolderflagimapotheruser
+newflags
+msgfolderflagimapotheruser
+mboxflags
+kpersonalmailbox
+newflags
+msgfolderflagimappersonal
+newflags
+msgfolderflagimappersonal
+setflags
+newflags
+nsok
+nsimethodimp
+nsimapmailfolder
+getboxflags
+print
+aboxflags
+aboxflags
+nserrornullpointer
+aboxflags
+mboxflags
+nsok
+nsimethodimp
+nsimapmailfolder
+getexplicitlyverify
+prbool
+aexplicitlyverify
+aexplicitlyverify
+nserrornullpointer
+aexplicitlyverify
+mexplicitlyverify
+nsok
+nsimethodimp
+nsimapmailfolder
+setexplicitlyverify
+prbool
+aexplicitlyverify
+mexplicitlyverify
+aexplicitlyverify
+nsok
+nsimethodimp
+nsimapmailfolder
+getnoselect
+prbool
+aresult
+nsensureargpointer
+aresult
+getflag
+msgfolderflagimapnoselect
+aresult
+nsimethodimp
+nsimapmailfolder
+compact
+nsiurllistener
+alistener
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+weareoffline
+mflags
+msgfolderflagoffline
+rv
+compactofflinestore
+amsgwindow
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+imapservice
+expunge
+meventqueue
+alistener
+nsnull
+rv
+nsimethodimp
+nsimapmailfolder
+compactall
+nsiurllistener
+alistener
+nsimsgwindow
+amsgwindow
+nsisupportsarray
+afolderarray
+prbool
+acompactofflinealso
+nsisupportsarray
+aofflinefolderarray
+compact
+alistener
+amsgwindow
+nsimethodimp
+nsimapmailfolder
+emptytrash
+nsimsgwindow
+msgwindow
+nsiurllistener
+alistener
+nscomptr
+nsimsgfolder
+trashfolder
+nsresult
+rv
+gettrashfolder
+getteraddrefs
+trashfolder
+nssucceeded
+rv
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+accountmanager
+prbool
+empytingonexit
+prfalse
+accountmanager
+getemptytrashinprogress
+empytingonexit
+empytingonexit
+nscomptr
+nsiimapincomingserver
+imapserver
+rv
+getimapincomingserver
+getteraddrefs
+imapserver
+nssucceeded
+rv
+imapserver
+prbool
+isaolserver
+prfalse
+imapserver
+getisaolserver
+isaolserver
+isaolserver
+nserrorfailure
+nscomptr
+nsimsgdatabase
+trashdb
+weareoffline
+nscomptr
+nsimsgdatabase
+trashdb
+rv
+trashfolder
+getmsgdatabase
+nsnull
+getteraddrefs
+trashdb
+nssucceeded
+rv
+trashdb
+nsmsgkey
+fakekey
+trashdb
+getnextfakeofflinemsgkey
+fakekey
+nscomptr
+nsimsgofflineimapoperation
+op
+rv
+trashdb
+getofflineopforkey
+fakekey
+prtrue
+getteraddrefs
+op
+trashfolder
+setflag
+msgfolderflagofflineevents
+op
+setoperation
+nsimsgofflineimapoperation
+kdeleteallmsgs
+rv
+nscomptr
+nsidbfolderinfo
+transferinfo
+rv
+trashfolder
+getdbtransferinfo
+getteraddrefs
+transferinfo
+rv
+trashfolder
+delete
+trashfolder
+setdbtransferinfo
+transferinfo
+trashfolder
+setsizeondisk
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nssucceeded
+rv
+alistener
+rv
+imapservice
+deleteallmessages
+meventqueue
+trashfolder
+alistener
+nsnull
+nscomptr
+nsiurllistener
+urllistener
+doqueryinterface
+trashfolder
+rv
+imapservice
+deleteallmessages
+meventqueue
+trashfolder
+urllistener
+nsnull
+nsfailed
+rv
+rv
+prbool
+hassubfolders
+prfalse
+rv
+trashfolder
+gethassubfolders
+hassubfolders
+hassubfolders
+nscomptr
+nsienumerator
+aenumerator
+nscomptr
+nsisupports
+asupport
+nscomptr
+nsimsgfolder
+afolder
+nscomptr
+nsisupportsarray
+asupportsarray
+rv
+nsnewisupportsarray
+getteraddrefs
+asupportsarray
+nsfailed
+rv
+rv
+rv
+trashfolder
+getsubfolders
+getteraddrefs
+aenumerator
+rv
+aenumerator
+first
+nssucceeded
+rv
+rv
+aenumerator
+currentitem
+getteraddrefs
+asupport
+nssucceeded
+rv
+asupportsarray
+appendelement
+asupport
+rv
+aenumerator
+next
+pruint
+cnt
+asupportsarray
+count
+cnt
+print
+cnt
+afolder
+doqueryelementat
+asupportsarray
+asupportsarray
+removeelementat
+afolder
+trashfolder
+propagatedelete
+afolder
+prtrue
+msgwindow
+nsok
+rv
+nsimethodimp
+nsimapmailfolder
+delete
+nsresult
+rv
+nserrorfailure
+mdatabase
+mdatabase
+forceclosed
+mdatabase
+nsnull
+nscomptr
+nsifilespec
+pathspec
+rv
+getpath
+getteraddrefs
+pathspec
+nssucceeded
+rv
+nsfilespec
+filespec
+rv
+pathspec
+getfilespec
+filespec
+nssucceeded
+rv
+nslocalfoldersummaryspec
+summaryspec
+filespec
+summaryspec
+exists
+summaryspec
+delete
+prfalse
+mpath
+nsfilespec
+filespec
+nssucceeded
+mpath
+getfilespec
+filespec
+filespec
+exists
+filespec
+delete
+prfalse
+rv
+nsimethodimp
+nsimapmailfolder
+rename
+prunichar
+newname
+nsimsgwindow
+msgwindow
+nsresult
+rv
+nserrorfailure
+nsautostring
+newnamestr
+newname
+newnamestr
+findchar
+mhierarchydelimiter
+nscomptr
+nsidocshell
+docshell
+msgwindow
+msgwindow
+getrootdocshell
+getteraddrefs
+docshell
+docshell
+nscomptr
+nsistringbundle
+bundle
+rv
+imapgetstringbundle
+getteraddrefs
+bundle
+nssucceeded
+rv
+bundle
+prunichar
+formatstrings
+prunichar
+mhierarchydelimiter
+nsxpidlstring
+alertstring
+rv
+bundle
+formatstringfromid
+imapspecialchar
+formatstrings
+gettercopies
+alertstring
+nscomptr
+nsiprompt
+dialog
+dogetinterface
+docshell
+dialog
+alertstring
+dialog
+alert
+nsnull
+alertstring
+nserrorfailure
+nscomptr
+nsiimapincomingserver
+incomingimapserver
+getimapincomingserver
+getteraddrefs
+incomingimapserver
+incomingimapserver
+recursivecloseactiveconnections
+incomingimapserver
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+imapservice
+renameleaf
+meventqueue
+newname
+msgwindow
+nsnull
+nsimethodimp
+nsimapmailfolder
+recursivecloseactiveconnections
+nsiimapincomingserver
+incomingimapserver
+nsensurearg
+incomingimapserver
+pruint
+cnt
+nsresult
+rv
+msubfolders
+nscomptr
+nsimsgimapmailfolder
+folder
+msubfolders
+count
+cnt
+cnt
+cnt
+folder
+doqueryelementat
+msubfolders
+folder
+folder
+recursivecloseactiveconnections
+incomingimapserver
+nscomptr
+nsimsgfolder
+msgfolder
+doqueryinterface
+folder
+rv
+nssucceeded
+rv
+msgfolder
+incomingimapserver
+closeconnectionforfolder
+msgfolder
+nsok
+nsimethodimp
+nsimapmailfolder
+preparetorename
+pruint
+cnt
+msubfolders
+nscomptr
+nsimsgimapmailfolder
+folder
+msubfolders
+count
+cnt
+cnt
+cnt
+folder
+doqueryelementat
+msubfolders
+folder
+folder
+preparetorename
+setonlinename
+nsok
+nsimethodimp
+nsimapmailfolder
+renamelocal
+newname
+nsimsgfolder
+parent
+nscautostring
+leafname
+newname
+nscautostring
+parentname
+print
+leafpos
+leafname
+rfindchar
+leafpos
+leafname
+cut
+leafpos
+mmsgparser
+nsnull
+preparetorename
+notifystoreclosedallheaders
+forcedbclosed
+nsresult
+rv
+nsok
+nscomptr
+nsifilespec
+oldpathspec
+rv
+getpath
+getteraddrefs
+oldpathspec
+nsfailed
+rv
+rv
+nscomptr
+nsifilespec
+parentpathspec
+rv
+parent
+getpath
+getteraddrefs
+parentpathspec
+nsensuresuccess
+rv
+rv
+nsfilespec
+parentpath
+rv
+parentpathspec
+getfilespec
+parentpath
+nsensuresuccess
+rv
+rv
+parentpath
+isdirectory
+adddirectoryseparator
+parentpath
+pruint
+cnt
+nsfilespec
+dirspec
+msubfolders
+msubfolders
+count
+cnt
+cnt
+oldpathspec
+getfilespec
+dirspec
+rv
+createdirectoryforfolder
+dirspec
+nsfilespec
+filespec
+oldpathspec
+getfilespec
+filespec
+nslocalfoldersummaryspec
+oldsummaryspec
+filespec
+nscautostring
+newnamestr
+oldsummaryspec
+delete
+prfalse
+cnt
+newnamestr
+leafname
+nsmsghashifnecessary
+newnamestr
+newnamestr
+sbd
+leafname
+dirspec
+getleafname
+nscrt
+strcmp
+leafname
+newnamestr
+get
+dirspec
+rename
+newnamestr
+get
+nscrt
+free
+leafname
+rv
+nscrt
+free
+leafname
+parentpath
+newnamestr
+get
+parentpath
+isdirectory
+parentpath
+createdirectory
+nsassertion
+directory
+already
+exists
+nscomptr
+nsilocalfile
+srcdir
+docreateinstance
+nslocalfilecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsilocalfile
+destdir
+docreateinstance
+nslocalfilecontractid
+rv
+nsensuresuccess
+rv
+rv
+srcdir
+initwithnativepath
+nsdependentcstring
+dirspec
+getnativepathcstring
+destdir
+initwithnativepath
+nsdependentcstring
+parentpath
+getnativepathcstring
+rv
+recursivecopy
+srcdir
+destdir
+nsensuresuccess
+rv
+rv
+dirspec
+delete
+prtrue
+rv
+nsimethodimp
+nsimapmailfolder
+getprettyname
+prunichar
+prettyname
+getname
+prettyname
+nsimethodimp
+nsimapmailfolder
+updatesummarytotals
+prbool
+force
+mnotifycountchanges
+misserver
+nsok
+nsresult
+rv
+nsok
+print
+oldunreadmessages
+mnumunreadmessages
+mnumpendingunreadmessages
+print
+oldtotalmessages
+mnumtotalmessages
+mnumpendingtotalmessages
+readdbfolderinfo
+force
+print
+newunreadmessages
+mnumunreadmessages
+mnumpendingunreadmessages
+print
+newtotalmessages
+mnumtotalmessages
+mnumpendingtotalmessages
+oldtotalmessages
+newtotalmessages
+notifyintpropertychanged
+ktotalmessagesatom
+oldtotalmessages
+newtotalmessages
+oldunreadmessages
+newunreadmessages
+notifyintpropertychanged
+ktotalunreadmessagesatom
+oldunreadmessages
+newunreadmessages
+flushtofoldercache
+rv
+nsimethodimp
+nsimapmailfolder
+getdeletable
+prbool
+deletable
+nsresult
+rv
+nserrorfailure
+rv
+nsimethodimp
+nsimapmailfolder
+getrequirescleanup
+prbool
+requirescleanup
+nsresult
+rv
+nserrorfailure
+rv
+nsimethodimp
+nsimapmailfolder
+getsizeondisk
+pruint
+size
+nsensureargpointer
+size
+size
+mfoldersize
+nsok
+nsimethodimp
+nsimapmailfolder
+getcancreatesubfolders
+prbool
+aresult
+nsensureargpointer
+aresult
+aresult
+mflags
+msgfolderflagimapnoinferiors
+prbool
+isserver
+prfalse
+getisserver
+isserver
+isserver
+nscomptr
+nsiimapincomingserver
+imapserver
+nsresult
+rv
+getimapincomingserver
+getteraddrefs
+imapserver
+prbool
+dualusefolders
+prtrue
+nssucceeded
+rv
+imapserver
+imapserver
+getdualusefolders
+dualusefolders
+dualusefolders
+aresult
+aresult
+mflags
+msgfolderflagimapnoselect
+nsok
+nsimethodimp
+nsimapmailfolder
+getcansubscribe
+prbool
+aresult
+nsensureargpointer
+aresult
+aresult
+prfalse
+prbool
+isimapserver
+prfalse
+nsresult
+rv
+getisserver
+isimapserver
+nsfailed
+rv
+rv
+aresult
+isimapserver
+nsok
+nsresult
+nsimapmailfolder
+getserverkey
+serverkey
+nscomptr
+nsimsgincomingserver
+server
+nsresult
+rv
+getserver
+getteraddrefs
+server
+nssucceeded
+rv
+server
+server
+getkey
+serverkey
+rv
+nsresult
+nsimapmailfolder
+getimapincomingserver
+nsiimapincomingserver
+aimapincomingserver
+nsensurearg
+aimapincomingserver
+aimapincomingserver
+nsnull
+nscomptr
+nsimsgincomingserver
+server
+nssucceeded
+getserver
+getteraddrefs
+server
+server
+nscomptr
+nsiimapincomingserver
+incomingserver
+doqueryinterface
+server
+aimapincomingserver
+incomingserver
+nsifaddref
+aimapincomingserver
+nsok
+nserrornullpointer
+nsimethodimp
+nsimapmailfolder
+userneedstoauthenticateforfolder
+prbool
+displayonly
+prbool
+authenticate
+nsresult
+rv
+nserrorfailure
+rv
+nsimethodimp
+nsimapmailfolder
+rememberpassword
+password
+nsresult
+rv
+nserrorfailure
+rv
+nsimethodimp
+nsimapmailfolder
+getrememberedpassword
+password
+nsresult
+rv
+nserrorfailure
+rv
+nsimethodimp
+nsimapmailfolder
+addmessagedispositionstate
+nsimsgdbhdr
+amessage
+nsmsgdispositionstate
+adispositionflag
+nsmsgdbfolder
+addmessagedispositionstate
+amessage
+adispositionflag
+amessage
+nsmsgkeyarray
+messageids
+nsmsgkey
+msgkey
+amessage
+getmessagekey
+msgkey
+messageids
+add
+msgkey
+adispositionflag
+nsimsgfolder
+nsmsgdispositionstatereplied
+storeimapflags
+kimapmsgansweredflag
+prtrue
+messageids
+getarray
+messageids
+getsize
+adispositionflag
+nsimsgfolder
+nsmsgdispositionstateforwarded
+storeimapflags
+kimapmsgforwardedflag
+prtrue
+messageids
+getarray
+messageids
+getsize
+nsok
+nsimethodimp
+nsimapmailfolder
+markmessagesread
+nsisupportsarray
+messages
+prbool
+markread
+nsresult
+rv
+rv
+nsmsgfolder
+markmessagesread
+messages
+markread
+nssucceeded
+rv
+nscautostring
+messageids
+nsmsgkeyarray
+keystomarkread
+rv
+buildidsandkeyarray
+messages
+messageids
+keystomarkread
+nsfailed
+rv
+rv
+rv
+storeimapflags
+kimapmsgseenflag
+markread
+keystomarkread
+getarray
+keystomarkread
+getsize
+mdatabase
+commit
+nsmsgdbcommittype
+klargecommit
+rv
+nsimethodimp
+nsimapmailfolder
+setlabelformessages
+nsisupportsarray
+amessages
+nsmsglabelvalue
+alabel
+nsensurearg
+amessages
+nscautostring
+messageids
+nsmsgkeyarray
+keystolabel
+nsresult
+rv
+buildidsandkeyarray
+amessages
+messageids
+keystolabel
+nsensuresuccess
+rv
+rv
+storeimapflags
+alabel
+prtrue
+keystolabel
+getarray
+keystolabel
+getsize
+nsimethodimp
+nsimapmailfolder
+markallmessagesread
+nsresult
+rv
+getdatabase
+nsnull
+nssucceeded
+rv
+nsmsgkeyarray
+thosemarked
+enablenotifications
+allmessagecountnotifications
+prfalse
+prtrue
+rv
+mdatabase
+markallread
+thosemarked
+enablenotifications
+allmessagecountnotifications
+prtrue
+prtrue
+nssucceeded
+rv
+rv
+storeimapflags
+kimapmsgseenflag
+prtrue
+thosemarked
+getarray
+thosemarked
+getsize
+mdatabase
+commit
+nsmsgdbcommittype
+klargecommit
+rv
+nsimethodimp
+nsimapmailfolder
+markthreadread
+nsimsgthread
+thread
+nsresult
+rv
+getdatabase
+nsnull
+nssucceeded
+rv
+nsmsgkeyarray
+thosemarked
+rv
+mdatabase
+markthreadread
+thread
+nsnull
+thosemarked
+nssucceeded
+rv
+rv
+storeimapflags
+kimapmsgseenflag
+prtrue
+thosemarked
+getarray
+thosemarked
+getsize
+mdatabase
+commit
+nsmsgdbcommittype
+klargecommit
+rv
+nsimethodimp
+nsimapmailfolder
+readfromfoldercacheelem
+nsimsgfoldercacheelement
+element
+nsresult
+rv
+nsmsgdbfolder
+readfromfoldercacheelem
+element
+print
+hierarchydelimiter
+konlinehierarchyseparatorunknown
+nsxpidlcstring
+onlinename
+element
+getintproperty
+boxflags
+mboxflags
+nssucceeded
+element
+getintproperty
+hierdelim
+hierarchydelimiter
+hierarchydelimiter
+konlinehierarchyseparatorunknown
+mhierarchydelimiter
+prunichar
+hierarchydelimiter
+rv
+element
+getstringproperty
+onlinename
+gettercopies
+onlinename
+nssucceeded
+rv
+onlinename
+strlen
+onlinename
+monlinefoldername
+assign
+onlinename
+ifdef
+debugbienvenu
+nscrt
+strcasecmp
+onlinename
+sent
+printf
+loading
+folder
+cache
+elem
+flags
+lx
+onlinename
+mflags
+nscrt
+strcasecmp
+onlinename
+inbox
+printf
+loading
+folder
+cache
+elem
+flags
+lx
+onlinename
+mflags
+endif
+rv
+nsimethodimp
+nsimapmailfolder
+writetofoldercacheelem
+nsimsgfoldercacheelement
+element
+nsresult
+rv
+nsmsgdbfolder
+writetofoldercacheelem
+element
+element
+setintproperty
+boxflags
+mboxflags
+element
+setintproperty
+hierdelim
+print
+mhierarchydelimiter
+element
+setstringproperty
+onlinename
+monlinefoldername
+get
+rv
+nsimethodimp
+nsimapmailfolder
+markmessagesflagged
+nsisupportsarray
+messages
+prbool
+markflagged
+nsresult
+rv
+rv
+nsmsgfolder
+markmessagesflagged
+messages
+markflagged
+nssucceeded
+rv
+nscautostring
+messageids
+nsmsgkeyarray
+keystomarkflagged
+rv
+buildidsandkeyarray
+messages
+messageids
+keystomarkflagged
+nsfailed
+rv
+rv
+rv
+storeimapflags
+kimapmsgflaggedflag
+markflagged
+keystomarkflagged
+getarray
+keystomarkflagged
+getsize
+mdatabase
+commit
+nsmsgdbcommittype
+klargecommit
+rv
+nsimethodimp
+nsimapmailfolder
+setonlinename
+aonlinefoldername
+nsresult
+rv
+nscomptr
+nsimsgdatabase
+db
+nscomptr
+nsidbfolderinfo
+folderinfo
+rv
+getdbfolderinfoanddb
+getteraddrefs
+folderinfo
+getteraddrefs
+db
+monlinefoldername
+aonlinefoldername
+nssucceeded
+rv
+folderinfo
+nsautostring
+onlinename
+onlinename
+assignwithconversion
+aonlinefoldername
+rv
+folderinfo
+setproperty
+onlinename
+onlinename
+rv
+folderinfo
+setmailboxname
+onlinename
+db
+commit
+nsmsgdbcommittype
+klargecommit
+folderinfo
+nsnull
+rv
+nsimethodimp
+nsimapmailfolder
+getonlinename
+aonlinefoldername
+aonlinefoldername
+nserrornullpointer
+readdbfolderinfo
+prfalse
+aonlinefoldername
+tonewcstring
+monlinefoldername
+aonlinefoldername
+nsok
+nserroroutofmemory
+nsimethodimp
+nsimapmailfolder
+getdbfolderinfoanddb
+nsidbfolderinfo
+folderinfo
+nsimsgdatabase
+db
+nsresult
+openerr
+nserrorunexpected
+db
+folderinfo
+nserrornullpointer
+nsresult
+rv
+openerr
+getdatabase
+nsnull
+db
+mdatabase
+nsifaddref
+db
+nssucceeded
+openerr
+db
+openerr
+db
+getdbfolderinfo
+folderinfo
+nssucceeded
+openerr
+folderinfo
+nsxpidlcstring
+onlinename
+nssucceeded
+folderinfo
+getcharptrproperty
+onlinename
+gettercopies
+onlinename
+onlinename
+isempty
+monlinefoldername
+assign
+onlinename
+nsautostring
+autoonlinename
+folderinfo
+getmailboxname
+autoonlinename
+autoonlinename
+isempty
+nsxpidlcstring
+uri
+rv
+geturi
+gettercopies
+uri
+nsfailed
+rv
+rv
+nsxpidlcstring
+hostname
+rv
+gethostname
+gettercopies
+hostname
+nsfailed
+rv
+rv
+nsxpidlcstring
+name
+rv
+nsimapurifullname
+kimaprooturi
+hostname
+uri
+gettercopies
+name
+nscautostring
+onlinecname
+name
+mhierarchydelimiter
+onlinecname
+replacechar
+mhierarchydelimiter
+monlinefoldername
+assign
+onlinecname
+autoonlinename
+assignwithconversion
+onlinecname
+get
+rv
+folderinfo
+setproperty
+onlinename
+autoonlinename
+openerr
+nsresult
+nsimapmailfolder
+buildidsandkeyarray
+nsisupportsarray
+messages
+nscstring
+msgids
+nsmsgkeyarray
+keyarray
+nsresult
+rv
+nserrornullpointer
+pruint
+count
+pruint
+messages
+rv
+rv
+messages
+count
+count
+nsfailed
+rv
+rv
+count
+nsmsgkey
+key
+nscomptr
+nsimsgdbhdr
+msgdbhdr
+doqueryelementat
+messages
+rv
+msgdbhdr
+rv
+msgdbhdr
+getmessagekey
+key
+nssucceeded
+rv
+keyarray
+add
+key
+allocateuidstringfromkeys
+keyarray
+getarray
+keyarray
+getsize
+msgids
+prcallback
+comparekey
+nsmsgkey
+nsmsgkey
+nsmsgkey
+nsmsgkey
+nsresult
+nsimapmailfolder
+allocateuidstringfromkeys
+nsmsgkey
+keys
+print
+numkeys
+nscstring
+msgids
+numkeys
+nserrorinvalidarg
+nsresult
+rv
+nsok
+pruint
+startsequence
+startsequence
+keys
+pruint
+cursequenceend
+startsequence
+pruint
+total
+numkeys
+nsquicksort
+keys
+numkeys
+nsmsgkey
+comparekey
+nsnull
+pruint
+keyindex
+keyindex
+total
+keyindex
+pruint
+curkey
+keys
+keyindex
+pruint
+nextkey
+keyindex
+total
+keys
+keyindex
+xffffffff
+prbool
+lastkey
+nextkey
+xffffffff
+lastkey
+cursequenceend
+curkey
+nextkey
+pruint
+cursequenceend
+lastkey
+cursequenceend
+nextkey
+cursequenceend
+startsequence
+msgids
+appendint
+startsequence
+msgids
+msgids
+appendint
+cursequenceend
+lastkey
+msgids
+startsequence
+nextkey
+cursequenceend
+startsequence
+startsequence
+nextkey
+cursequenceend
+startsequence
+msgids
+appendint
+keys
+keyindex
+lastkey
+msgids
+rv
+nsresult
+nsimapmailfolder
+markmessagesimapdeleted
+nsmsgkeyarray
+keyarray
+prbool
+deleted
+nsimsgdatabase
+db
+pruint
+kindex
+kindex
+keyarray
+getsize
+kindex
+nsmsgkey
+key
+keyarray
+elementat
+kindex
+db
+markimapdeleted
+key
+deleted
+nsnull
+nsok
+nsimethodimp
+nsimapmailfolder
+deletemessages
+nsisupportsarray
+messages
+nsimsgwindow
+msgwindow
+prbool
+deletestorage
+prbool
+ismove
+nsimsgcopyservicelistener
+listener
+prbool
+allowundo
+nscomptr
+nsienumerator
+aenumerator
+nscomptr
+nsirdfresource
+res
+nscautostring
+uri
+prbool
+deleteimmediatelynotrash
+prfalse
+nscautostring
+messageids
+nsmsgkeyarray
+srckeyarray
+prbool
+deletemsgs
+prtrue
+nsmsgimapdeletemodel
+deletemodel
+nsmsgimapdeletemodels
+movetotrash
+nscomptr
+nsiimapincomingserver
+imapserver
+nsresult
+rv
+getflag
+msgfolderflagtrash
+deleteimmediatelynotrash
+rv
+getimapincomingserver
+getteraddrefs
+imapserver
+nssucceeded
+rv
+imapserver
+imapserver
+getdeletemodel
+deletemodel
+deletemodel
+nsmsgimapdeletemodels
+movetotrash
+deletestorage
+deleteimmediatelynotrash
+prtrue
+prbool
+interrupted
+prfalse
+imapserver
+pseudointerruptmsgload
+msgwindow
+interrupted
+rv
+buildidsandkeyarray
+messages
+messageids
+srckeyarray
+nsfailed
+rv
+rv
+nscomptr
+nsimsgfolder
+rootfolder
+nscomptr
+nsimsgfolder
+trashfolder
+deleteimmediatelynotrash
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nssucceeded
+rv
+rootfolder
+pruint
+numfolders
+rv
+rootfolder
+getfolderswithflag
+msgfolderflagtrash
+numfolders
+getteraddrefs
+trashfolder
+nsassertion
+nssucceeded
+rv
+trashfolder
+couldn
+find
+trash
+nsfailed
+rv
+trashfolder
+deleteimmediatelynotrash
+prtrue
+nssucceeded
+rv
+deleteimmediatelynotrash
+deletemodel
+nsmsgimapdeletemodels
+imapdelete
+allowundo
+nsimapmovecopymsgtxn
+undomsgtxn
+nsimapmovecopymsgtxn
+srckeyarray
+messageids
+get
+nsnull
+prtrue
+ismove
+meventqueue
+nsnull
+undomsgtxn
+nserroroutofmemory
+undomsgtxn
+settransactiontype
+nsimessenger
+edeletemsg
+nscomptr
+nsitransactionmanager
+txnmgr
+msgwindow
+msgwindow
+gettransactionmanager
+getteraddrefs
+txnmgr
+txnmgr
+txnmgr
+dotransaction
+undomsgtxn
+deletemodel
+nsmsgimapdeletemodels
+imapdelete
+deletestorage
+pruint
+cnt
+flags
+rv
+messages
+count
+cnt
+nsensuresuccess
+rv
+rv
+deletemsgs
+prfalse
+pruint
+cnt
+nscomptr
+nsimsgdbhdr
+msghdr
+doqueryelementat
+messages
+msghdr
+msghdr
+getflags
+flags
+flags
+msgflagimapdeleted
+deletemsgs
+prtrue
+rv
+storeimapflags
+kimapmsgdeletedflag
+deletemsgs
+srckeyarray
+getarray
+srckeyarray
+getsize
+nssucceeded
+rv
+mdatabase
+deletemodel
+nsmsgimapdeletemodels
+imapdelete
+markmessagesimapdeleted
+srckeyarray
+deletemsgs
+mdatabase
+enablenotifications
+allmessagecountnotifications
+prfalse
+prtrue
+mdatabase
+deletemessages
+srckeyarray
+nsnull
+enablenotifications
+allmessagecountnotifications
+prtrue
+prtrue
+notifyfolderevent
+mdeleteormovemsgcompletedatom
+rv
+trashfolder
+nscomptr
+nsimsgfolder
+srcfolder
+nscomptr
+nsisupports
+srcsupport
+pruint
+count
+rv
+messages
+count
+count
+rv
+queryinterface
+nsgetiid
+nsimsgfolder
+getteraddrefs
+srcfolder
+nscomptr
+nsimsgcopyservice
+copyservice
+dogetservice
+nsmsgcopyservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+copyservice
+copymessages
+srcfolder
+messages
+trashfolder
+prtrue
+listener
+msgwindow
+allowundo
+rv
+prbool
+nsimapmailfolder
+trashordescendentoftrash
+nsimsgfolder
+folder
+nscomptr
+nsimsgfolder
+parent
+nscomptr
+nsimsgfolder
+curfolder
+nsresult
+rv
+pruint
+flags
+folder
+prfalse
+curfolder
+doqueryinterface
+folder
+rv
+nsfailed
+rv
+prfalse
+rv
+curfolder
+getflags
+flags
+nsfailed
+rv
+prfalse
+flags
+msgfolderflagtrash
+prtrue
+rv
+curfolder
+getparentmsgfolder
+getteraddrefs
+parent
+nsfailed
+rv
+prfalse
+curfolder
+doqueryinterface
+parent
+rv
+nssucceeded
+rv
+curfolder
+prfalse
+nsimethodimp
+nsimapmailfolder
+deletesubfolders
+nsisupportsarray
+folders
+nsimsgwindow
+msgwindow
+nscomptr
+nsimsgfolder
+curfolder
+nscomptr
+nsiurllistener
+urllistener
+nscomptr
+nsimsgfolder
+trashfolder
+pruint
+foldercount
+nsresult
+rv
+prbool
+deletenotrash
+trashordescendentoftrash
+deleteismovetotrash
+prbool
+confirmed
+prfalse
+prbool
+confirmdeletion
+prtrue
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nssucceeded
+rv
+rv
+folders
+count
+foldercount
+nsensuresuccess
+rv
+rv
+deletenotrash
+rv
+gettrashfolder
+getteraddrefs
+trashfolder
+nsfailed
+rv
+trashfolder
+nserrorfailure
+prbool
+canhavesubfoldersoftrash
+prtrue
+trashfolder
+getcancreatesubfolders
+canhavesubfoldersoftrash
+canhavesubfoldersoftrash
+nscomptr
+nsiimapincomingserver
+imapserver
+rv
+getimapincomingserver
+getteraddrefs
+imapserver
+nssucceeded
+rv
+imapserver
+prbool
+serversupportsdualusefolders
+imapserver
+getdualusefolders
+serversupportsdualusefolders
+serversupportsdualusefolders
+canhavesubfoldersoftrash
+prfalse
+canhavesubfoldersoftrash
+deletenotrash
+prtrue
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nssucceeded
+rv
+prefbranch
+getboolpref
+mailnews
+confirm
+movefolderstotrash
+confirmdeletion
+confirmdeletion
+deletenotrash
+nsxpidlstring
+confirmationstr
+imapgetstringbyid
+deletenotrash
+imapmovefoldertotrash
+imapdeletenotrash
+gettercopies
+confirmationstr
+msgwindow
+nserrornullpointer
+nscomptr
+nsidocshell
+docshell
+msgwindow
+getrootdocshell
+getteraddrefs
+docshell
+nscomptr
+nsiprompt
+dialog
+docshell
+dialog
+dogetinterface
+docshell
+dialog
+confirmationstr
+dialog
+confirm
+nsnull
+confirmationstr
+confirmed
+confirmed
+prtrue
+confirmed
+foldercount
+curfolder
+doqueryelementat
+folders
+rv
+nssucceeded
+rv
+urllistener
+doqueryinterface
+curfolder
+deletenotrash
+rv
+imapservice
+deletefolder
+meventqueue
+curfolder
+urllistener
+nsnull
+prbool
+confirm
+prfalse
+prbool
+match
+prfalse
+rv
+curfolder
+matchorchangefilterdestination
+nsnull
+prfalse
+match
+match
+curfolder
+confirmfolderdeletionforfilter
+msgwindow
+confirm
+confirm
+nsok
+rv
+imapservice
+movefolder
+meventqueue
+curfolder
+trashfolder
+urllistener
+msgwindow
+nsnull
+confirmed
+deletenotrash
+nsmsgfolder
+deletesubfolders
+folders
+msgwindow
+rv
+nsimethodimp
+nsimapmailfolder
+getnewmessages
+nsimsgwindow
+awindow
+nsiurllistener
+alistener
+nscomptr
+nsimsgfolder
+rootfolder
+nsresult
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nssucceeded
+rv
+rootfolder
+nscomptr
+nsiimapincomingserver
+imapserver
+getimapincomingserver
+getteraddrefs
+imapserver
+prbool
+performingbiff
+prfalse
+imapserver
+nscomptr
+nsimsgincomingserver
+incomingserver
+doqueryinterface
+imapserver
+rv
+incomingserver
+incomingserver
+getperformingbiff
+performingbiff
+prbool
+checkallfolders
+prfalse
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nssucceeded
+rv
+prefbranch
+rv
+prefbranch
+getboolpref
+mail
+checkallimapfoldersfornew
+checkallfolders
+murllistener
+alistener
+pruint
+numfolders
+nscomptr
+nsimsgfolder
+inbox
+rv
+rootfolder
+getfolderswithflag
+msgfolderflaginbox
+numfolders
+getteraddrefs
+inbox
+inbox
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+doqueryinterface
+inbox
+rv
+imapfolder
+imapfolder
+setperformingbiff
+performingbiff
+inbox
+setgettingnewmessages
+prtrue
+rv
+inbox
+updatefolder
+awindow
+imapserver
+rv
+imapserver
+getnewmessagesfornoninboxfolders
+rootfolder
+awindow
+checkallfolders
+performingbiff
+rv
+nsimethodimp
+nsimapmailfolder
+shutdown
+prbool
+shutdownchildren
+mfilterlist
+nsnull
+minitialized
+prfalse
+mpathname
+mpathname
+nsnull
+nsifrelease
+mmovecoalescer
+nsmsgdbfolder
+shutdown
+shutdownchildren
+nsresult
+nsimapmailfolder
+getbodystodownload
+nsmsgkeyarray
+keysofmessagestodownload
+nsensurearg
+keysofmessagestodownload
+nsresult
+rv
+nserrornullpointer
+mdatabase
+nscomptr
+nsisimpleenumerator
+enumerator
+rv
+mdatabase
+enumeratemessages
+getteraddrefs
+enumerator
+nssucceeded
+rv
+enumerator
+prbool
+hasmore
+nssucceeded
+rv
+enumerator
+hasmoreelements
+hasmore
+hasmore
+prtrue
+nscomptr
+nsimsgdbhdr
+pheader
+rv
+enumerator
+getnext
+getteraddrefs
+pheader
+nsassertion
+nssucceeded
+rv
+nsmsgdbenumerator
+broken
+pheader
+nssucceeded
+rv
+prbool
+shouldstoremsgoffline
+prfalse
+nsmsgkey
+msgkey
+pheader
+getmessagekey
+msgkey
+mdownloadingfolderforofflineuse
+msgfitsdownloadcriteria
+msgkey
+shouldstoremsgoffline
+shouldstoremsgoffline
+msgkey
+shouldstoremsgoffline
+shouldstoremsgoffline
+keysofmessagestodownload
+add
+msgkey
+rv
+nsimethodimp
+nsimapmailfolder
+updateimapmailboxinfo
+nsiimapprotocol
+aprotocol
+nsimailboxspec
+aspec
+nsresult
+rv
+nserrorfailure
+changenumpendingtotalmessages
+getnumpendingtotalmessages
+changenumpendingunread
+getnumpendingunread
+mdatabase
+getdatabase
+nsnull
+prbool
+folderselected
+rv
+aspec
+getfolderselected
+folderselected
+nssucceeded
+rv
+folderselected
+nsmsgkeyarray
+existingkeys
+nsmsgkeyarray
+keystodelete
+nsmsgkeyarray
+keystofetch
+nscomptr
+nsidbfolderinfo
+dbfolderinfo
+print
+imapuidvalidity
+rv
+nserrorunexpected
+mdatabase
+rv
+mdatabase
+getdbfolderinfo
+getteraddrefs
+dbfolderinfo
+nssucceeded
+rv
+dbfolderinfo
+dbfolderinfo
+getimapuidvalidity
+imapuidvalidity
+mdatabase
+mdatabase
+listallkeys
+existingkeys
+mdatabase
+listallofflinedeletes
+existingkeys
+existingkeys
+quicksort
+print
+foldervalidity
+aspec
+getfolderuidvalidity
+foldervalidity
+nscomptr
+nsiimapflaganduidstate
+flagstate
+aspec
+getflagstate
+getteraddrefs
+flagstate
+muidvalidity
+foldervalidity
+imapuidvalidity
+foldervalidity
+nscomptr
+nsimsgdatabase
+maildbfactory
+nscomptr
+nsifilespec
+pathspec
+rv
+getpath
+getteraddrefs
+pathspec
+nsfailed
+rv
+rv
+nsfilespec
+dbname
+rv
+pathspec
+getfilespec
+dbname
+nsfailed
+rv
+rv
+rv
+nscomponentmanager
+createinstance
+kcimapdb
+nsnull
+nsgetiid
+nsimsgdatabase
+getteraddrefs
+maildbfactory
+nsfailed
+rv
+rv
+nscomptr
+nsidbfolderinfo
+transferinfo
+dbfolderinfo
+dbfolderinfo
+gettransferinfo
+getteraddrefs
+transferinfo
+mdatabase
+dbfolderinfo
+nsnull
+notifystoreclosedallheaders
+mdatabase
+forceclosed
+mdatabase
+nsnull
+nslocalfoldersummaryspec
+summaryspec
+dbname
+summaryspec
+delete
+prfalse
+rv
+maildbfactory
+openfolderdb
+prtrue
+prtrue
+getteraddrefs
+mdatabase
+rv
+nsmsgerrorfoldersummarymissing
+rv
+nsok
+nsfailed
+rv
+mdatabase
+mdatabase
+forceclosed
+mdatabase
+nsnull
+nssucceeded
+rv
+mdatabase
+transferinfo
+setdbtransferinfo
+transferinfo
+summarychanged
+rv
+nserrorunexpected
+mdatabase
+maddlistener
+mdatabase
+addlistener
+rv
+mdatabase
+getdbfolderinfo
+getteraddrefs
+dbfolderinfo
+nssucceeded
+rv
+dbfolderinfo
+dbfolderinfo
+setimapuidvalidity
+foldervalidity
+existingkeys
+removeall
+flagstate
+nsmsgkeyarray
+noexistingkeys
+findkeystoadd
+noexistingkeys
+keystofetch
+flagstate
+nsfailed
+rv
+dbname
+delete
+prfalse
+flagstate
+keystodelete
+copyarray
+existingkeys
+findkeystodelete
+existingkeys
+keystodelete
+flagstate
+pruint
+boxflags
+aspec
+getboxflags
+boxflags
+boxflags
+kjustexpunged
+findkeystoadd
+existingkeys
+keystofetch
+flagstate
+keystodelete
+getsize
+pruint
+total
+mdatabase
+mdatabase
+deletemessages
+keystodelete
+nsnull
+total
+keystodelete
+getsize
+mperformingbiff
+keystofetch
+getsize
+nscomptr
+nsimsgincomingserver
+server
+nssucceeded
+getserver
+getteraddrefs
+server
+server
+server
+setperformingbiff
+prtrue
+setnumnewmessages
+keystofetch
+getsize
+setbiffstate
+nsimsgfolder
+nsmsgbiffstatenewmail
+syncflags
+flagstate
+keystofetch
+getsize
+preparetoaddheaderstomaildb
+aprotocol
+keystofetch
+aspec
+aprotocol
+aprotocol
+notifyhdrstodownload
+nsnull
+prbool
+gettingnewmessages
+getgettingnewmessages
+gettingnewmessages
+gettingnewmessages
+progressstatus
+aprotocol
+imapnonewmessages
+nsnull
+rv
+nsimethodimp
+nsimapmailfolder
+updateimapmailboxstatus
+nsiimapprotocol
+aprotocol
+nsimailboxspec
+aspec
+nsresult
+rv
+nserrorfailure
+rv
+nsimethodimp
+nsimapmailfolder
+parsemsghdrs
+nsiimapprotocol
+aprotocol
+nsiimapheaderxferinfo
+ahdrxferinfo
+pruint
+numhdrs
+nscomptr
+nsiimapheaderinfo
+headerinfo
+nsresult
+rv
+ahdrxferinfo
+getnumheaders
+numhdrs
+pruint
+nssucceeded
+rv
+numhdrs
+rv
+ahdrxferinfo
+getheader
+getteraddrefs
+headerinfo
+nsensuresuccess
+rv
+rv
+headerinfo
+print
+msgsize
+nsmsgkey
+msgkey
+msghdrs
+headerinfo
+getmsgsize
+msgsize
+headerinfo
+getmsguid
+msgkey
+msgkey
+nsmsgkeynone
+nsresult
+rv
+setupheaderparsestream
+msgsize
+nsnull
+nsnull
+nsensuresuccess
+rv
+rv
+headerinfo
+getmsghdrs
+msghdrs
+rv
+parseadoptedheaderline
+msghdrs
+msgkey
+nsensuresuccess
+rv
+rv
+rv
+normalendheaderparsestream
+aprotocol
+rv
+nsresult
+nsimapmailfolder
+setupheaderparsestream
+pruint
+asize
+contenttype
+nsimailboxspec
+boxspec
+nsresult
+rv
+nserrorfailure
+mdatabase
+getdatabase
+nsnull
+mnextmessagebytelength
+asize
+mmsgparser
+rv
+nscomponentmanager
+createinstance
+kparsemailmsgstatecid
+nsnull
+nsgetiid
+nsimsgparsemailmsgstate
+getteraddrefs
+mmsgparser
+mmsgparser
+clear
+mmsgparser
+mmsgparser
+setmaildb
+mdatabase
+mmsgparser
+setstate
+nsimsgparsemailmsgstate
+parseheadersstate
+nserroroutofmemory
+rv
+nsresult
+nsimapmailfolder
+parseadoptedheaderline
+amessageline
+pruint
+amsgkey
+str
+amessageline
+mcurmsguid
+amsgkey
+mmsgparser
+setenvelopepos
+mcurmsguid
+print
+len
+strlen
+str
+currenteol
+plstrstr
+str
+msglinebreak
+currentline
+str
+currentline
+str
+len
+currenteol
+mmsgparser
+parseafolderline
+currentline
+currenteol
+msglinebreaklen
+currentline
+currentline
+currenteol
+msglinebreaklen
+currenteol
+plstrstr
+currentline
+msglinebreak
+mmsgparser
+parseafolderline
+currentline
+plstrlen
+currentline
+currentline
+str
+len
+nsok
+nsresult
+nsimapmailfolder
+normalendheaderparsestream
+nsiimapprotocol
+aprotocol
+nscomptr
+nsimsgdbhdr
+newmsghdr
+nsresult
+rv
+nsok
+mmsgparser
+nsmailboxparsestate
+parsestate
+mmsgparser
+getstate
+parsestate
+parsestate
+nsimsgparsemailmsgstate
+parseheadersstate
+mmsgparser
+parseafolderline
+crlf
+mmsgparser
+getnewmsghdr
+getteraddrefs
+newmsghdr
+nssucceeded
+rv
+newmsghdr
+headers
+print
+headerssize
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserver
+getteraddrefs
+server
+nssucceeded
+rv
+nsxpidlcstring
+redirectortype
+server
+getredirectortype
+gettercopies
+redirectortype
+redirectortype
+isempty
+notifyfolderevent
+mimaphdrdownloadedatom
+newmsghdr
+setmessagekey
+mcurmsguid
+tweakheaderflags
+aprotocol
+newmsghdr
+pruint
+messagesize
+nssucceeded
+newmsghdr
+getmessagesize
+messagesize
+mfoldersize
+messagesize
+mmsgmovedbyfilter
+prfalse
+mflags
+msgfolderflaginbox
+pruint
+msgflags
+newmsghdr
+getflags
+msgflags
+msgflags
+msgflagread
+msgflagimapdeleted
+rv
+mmsgparser
+getallheaders
+headers
+headerssize
+nssucceeded
+rv
+headers
+mfilterlist
+nscomptr
+nsimsgwindow
+msgwindow
+aprotocol
+nscomptr
+nsiimapurl
+aimapurl
+nscomptr
+nsimsgmailnewsurl
+msgurl
+rv
+aprotocol
+getrunningimapurl
+getteraddrefs
+aimapurl
+nssucceeded
+rv
+aimapurl
+msgurl
+doqueryinterface
+aimapurl
+msgurl
+msgurl
+getmsgwindow
+getteraddrefs
+msgwindow
+getmovecoalescer
+mfilterlist
+applyfilterstohdr
+nsmsgfiltertype
+inboxrule
+newmsghdr
+mdatabase
+headers
+headerssize
+msgwindow
+mdatabase
+mmsgmovedbyfilter
+showdeletedmessages
+mdatabase
+addnewhdrtodb
+newmsghdr
+prtrue
+mmsgparser
+clear
+mmsgparser
+setmaildb
+nsnull
+nsok
+nsimethodimp
+nsimapmailfolder
+abortheaderparsestream
+nsiimapprotocol
+aprotocol
+nsresult
+rv
+nserrorfailure
+rv
+nsimethodimp
+nsimapmailfolder
+begincopy
+nsimsgdbhdr
+message
+nsresult
+rv
+nserrornullpointer
+mcopystate
+rv
+mcopystate
+mtmpfilespec
+prbool
+isopen
+prfalse
+rv
+mcopystate
+mtmpfilespec
+isstreamopen
+isopen
+isopen
+mcopystate
+mtmpfilespec
+closestream
+nsfilespec
+filespec
+mcopystate
+mtmpfilespec
+getfilespec
+filespec
+filespec
+valid
+filespec
+delete
+prfalse
+mcopystate
+mtmpfilespec
+nsnull
+message
+mcopystate
+mmessage
+doqueryinterface
+message
+rv
+nsspecialsystemdirectory
+tmpfilespec
+nsspecialsystemdirectory
+ostemporarydirectory
+tmpfilespec
+nscpmsg
+txt
+tmpfilespec
+makeunique
+rv
+nsnewfilespecwithspec
+tmpfilespec
+getteraddrefs
+mcopystate
+mtmpfilespec
+nssucceeded
+rv
+mcopystate
+mtmpfilespec
+rv
+mcopystate
+mtmpfilespec
+openstreamforwriting
+mcopystate
+mdatabuffer
+prcalloc
+copybuffersize
+mcopystate
+mdatabuffer
+nserroroutofmemory
+mcopystate
+mdatabuffersize
+copybuffersize
+rv
+nsimethodimp
+nsimapmailfolder
+copydata
+nsiinputstream
+aistream
+print
+alength
+nsresult
+rv
+nserrornullpointer
+nsassertion
+mcopystate
+mcopystate
+mtmpfilespec
+mcopystate
+mdatabuffer
+fatal
+copy
+operation
+error
+mcopystate
+mcopystate
+mtmpfilespec
+mcopystate
+mdatabuffer
+rv
+pruint
+readcount
+print
+writecount
+alength
+mcopystate
+mleftover
+mcopystate
+mdatabuffersize
+mcopystate
+mdatabuffer
+prrealloc
+mcopystate
+mdatabuffer
+alength
+mcopystate
+mleftover
+mcopystate
+mdatabuffer
+nserroroutofmemory
+mcopystate
+mdatabuffersize
+alength
+mcopystate
+mleftover
+start
+end
+pruint
+linebreaklen
+rv
+aistream
+read
+mcopystate
+mdatabuffer
+mcopystate
+mleftover
+alength
+readcount
+nsfailed
+rv
+rv
+mcopystate
+mleftover
+readcount
+mcopystate
+mdatabuffer
+mcopystate
+mleftover
+start
+mcopystate
+mdatabuffer
+end
+plstrchr
+start
+end
+end
+plstrchr
+start
+end
+nscrt
+lf
+linebreaklen
+linebreaklen
+linebreaklen
+linebreaklen
+start
+end
+plstrncasecmp
+start
+mozilla
+status
+plstrncasecmp
+start
+mozilla
+status
+plstrncmp
+start
+from
+rv
+mcopystate
+mtmpfilespec
+write
+start
+end
+start
+writecount
+rv
+mcopystate
+mtmpfilespec
+write
+crlf
+writecount
+start
+end
+linebreaklen
+start
+mcopystate
+mdatabuffer
+mcopystate
+mleftover
+mcopystate
+mleftover
+end
+plstrchr
+start
+end
+end
+plstrchr
+start
+start
+end
+mcopystate
+mleftover
+start
+mcopystate
+mdatabuffer
+memcpy
+mcopystate
+mdatabuffer
+start
+mcopystate
+mleftover
+rv
+nsimethodimp
+nsimapmailfolder
+endcopy
+prbool
+copysucceeded
+nsresult
+rv
+copysucceeded
+nsok
+nserrorfailure
+copysucceeded
+mcopystate
+mcopystate
+mtmpfilespec
+nscomptr
+nsiurllistener
+urllistener
+mcopystate
+mtmpfilespec
+flush
+mcopystate
+mtmpfilespec
+closestream
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+queryinterface
+nsgetiid
+nsiurllistener
+getteraddrefs
+urllistener
+nscomptr
+nsisupports
+copysupport
+mcopystate
+copysupport
+doqueryinterface
+mcopystate
+rv
+imapservice
+appendmessagefromfile
+meventqueue
+mcopystate
+mtmpfilespec
+prtrue
+mcopystate
+mselectedstate
+urllistener
+nsnull
+copysupport
+mcopystate
+mmsgwindow
+rv
+nsimethodimp
+nsimapmailfolder
+endmove
+prbool
+movesucceeded
+nsok
+nsimethodimp
+nsimapmailfolder
+startmessage
+nsok
+nsimethodimp
+nsimapmailfolder
+endmessage
+nsmsgkey
+key
+nsok
+nsimethodimp
+nsimapmailfolder
+applyfilterhit
+nsimsgfilter
+filter
+nsimsgwindow
+msgwindow
+prbool
+applymore
+nsensureargpointer
+applymore
+nsmsgruleactiontype
+actiontype
+nsxpidlcstring
+actiontargetfolderuri
+pruint
+newflags
+nsresult
+rv
+nsok
+ifdef
+debugbienvenu
+printf
+got
+rule
+hit
+endif
+nscomptr
+nsimsgdbhdr
+msghdr
+mmsgparser
+mmsgparser
+getnewmsghdr
+getteraddrefs
+msghdr
+msghdr
+nserrornullpointer
+prbool
+deletetotrash
+deleteismovetotrash
+nscomptr
+nsisupportsarray
+filteractionlist
+rv
+nsnewisupportsarray
+getteraddrefs
+filteractionlist
+nsensuresuccess
+rv
+rv
+rv
+filter
+getsortedactionlist
+filteractionlist
+nsensuresuccess
+rv
+rv
+pruint
+numactions
+rv
+filteractionlist
+count
+numactions
+nsensuresuccess
+rv
+rv
+prbool
+loggingenabled
+prfalse
+mfilterlist
+numactions
+mfilterlist
+getloggingenabled
+loggingenabled
+pruint
+actionindex
+actionindex
+numactions
+applymore
+actionindex
+nscomptr
+nsimsgruleaction
+filteraction
+filteractionlist
+queryelementat
+actionindex
+nsgetiid
+nsimsgruleaction
+getteraddrefs
+filteraction
+filteraction
+nssucceeded
+filteraction
+gettype
+actiontype
+actiontype
+nsmsgfilteraction
+movetofolder
+filteraction
+gettargetfolderuri
+gettercopies
+actiontargetfolderuri
+actiontargetfolderuri
+isempty
+nsassertion
+prfalse
+actiontargetfolderuri
+is
+empty
+pruint
+msgflags
+nsmsgkey
+msgkey
+nscautostring
+trashnameval
+msghdr
+getflags
+msgflags
+msghdr
+getmessagekey
+msgkey
+prbool
+isread
+msgflags
+msgflagread
+actiontype
+nsmsgfilteraction
+delete
+deletetotrash
+nscomptr
+nsimsgfolder
+mailtrash
+rv
+gettrashfolder
+getteraddrefs
+mailtrash
+nssucceeded
+rv
+mailtrash
+rv
+mailtrash
+geturi
+gettercopies
+actiontargetfolderuri
+msghdr
+orflags
+msgflagread
+newflags
+msghdr
+orflags
+msgflagread
+msgflagimapdeleted
+newflags
+nsmsgkeyarray
+keystoflag
+keystoflag
+add
+msgkey
+storeimapflags
+kimapmsgseenflag
+kimapmsgdeletedflag
+prtrue
+keystoflag
+getarray
+keystoflag
+getsize
+mmsgmovedbyfilter
+prtrue
+nsmsgfilteraction
+movetofolder
+nsxpidlcstring
+uri
+rv
+geturi
+gettercopies
+uri
+actiontargetfolderuri
+nscrt
+strcmp
+uri
+actiontargetfolderuri
+msghdr
+getflags
+msgflags
+msgflags
+msgflagmdnreportneeded
+isread
+msghdr
+setflags
+msgflags
+msgflagmdnreportneeded
+msghdr
+orflags
+msgflagmdnreportsent
+newflags
+nsresult
+err
+moveincorporatedmessage
+msghdr
+mdatabase
+actiontargetfolderuri
+filter
+msgwindow
+nssucceeded
+err
+mmsgmovedbyfilter
+prtrue
+applymore
+prfalse
+nsmsgfilteraction
+markread
+nsmsgkeyarray
+keystoflag
+keystoflag
+add
+msgkey
+storeimapflags
+kimapmsgseenflag
+prtrue
+keystoflag
+getarray
+keystoflag
+getsize
+nsmsgfilteraction
+markflagged
+nsmsgkeyarray
+keystoflag
+keystoflag
+add
+msgkey
+storeimapflags
+kimapmsgflaggedflag
+prtrue
+keystoflag
+getarray
+keystoflag
+getsize
+nsmsgfilteraction
+killthread
+msghdr
+orflags
+msgflagignored
+newflags
+nsmsgfilteraction
+watchthread
+msghdr
+orflags
+msgflagwatched
+newflags
+nsmsgfilteraction
+changepriority
+nsmsgpriorityvalue
+filterpriority
+filteraction
+getpriority
+filterpriority
+msghdr
+setpriority
+filterpriority
+nsmsgfilteraction
+label
+nsmsglabelvalue
+filterlabel
+filteraction
+getlabel
+filterlabel
+msghdr
+setlabel
+filterlabel
+nsmsgkeyarray
+keystoflag
+keystoflag
+add
+msgkey
+storeimapflags
+filterlabel
+prtrue
+keystoflag
+getarray
+keystoflag
+getsize
+loggingenabled
+mmsgmovedbyfilter
+actiontype
+nsmsgfilteraction
+movetofolder
+actiontype
+nsmsgfilteraction
+delete
+deletetotrash
+filter
+logrulehit
+filteraction
+msghdr
+nsok
+nsimethodimp
+nsimapmailfolder
+setimapflags
+uids
+print
+flags
+nsiuri
+url
+nsresult
+rv
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+imapservice
+setmessageflags
+meventqueue
+url
+uids
+flags
+prtrue
+nsimethodimp
+nsimapmailfolder
+playbackofflinefoldercreate
+prunichar
+afoldername
+nsimsgwindow
+awindow
+nsiuri
+url
+nsensureargpointer
+afoldername
+nsresult
+rv
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+imapservice
+createfolder
+meventqueue
+afoldername
+url
+nsimethodimp
+nsimapmailfolder
+replayofflinemovecopy
+nsmsgkey
+msgkeys
+print
+numkeys
+prbool
+ismove
+nsimsgfolder
+adstfolder
+nsiurllistener
+aurllistener
+nsimsgwindow
+awindow
+nsresult
+rv
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nssucceeded
+rv
+nscomptr
+nsiuri
+resulturl
+nscautostring
+uids
+allocateuidstringfromkeys
+msgkeys
+numkeys
+uids
+rv
+imapservice
+onlinemessagecopy
+meventqueue
+uids
+get
+adstfolder
+prtrue
+ismove
+aurllistener
+getteraddrefs
+resulturl
+nsnull
+awindow
+resulturl
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+resulturl
+mailnewsurl
+nscomptr
+nsiurllistener
+folderlistener
+doqueryinterface
+adstfolder
+folderlistener
+mailnewsurl
+registerlistener
+folderlistener
+rv
+nsimethodimp
+nsimapmailfolder
+storeimapflags
+print
+flags
+prbool
+addflags
+nsmsgkey
+keys
+print
+numkeys
+nsresult
+rv
+nsok
+weareoffline
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nssucceeded
+rv
+nscautostring
+msgids
+allocateuidstringfromkeys
+keys
+numkeys
+msgids
+addflags
+imapservice
+addmessageflags
+meventqueue
+nsnull
+msgids
+get
+flags
+prtrue
+imapservice
+subtractmessageflags
+meventqueue
+nsnull
+msgids
+get
+flags
+prtrue
+getdatabase
+nsnull
+mdatabase
+pruint
+total
+numkeys
+pruint
+keyindex
+keyindex
+total
+keyindex
+nscomptr
+nsimsgofflineimapoperation
+op
+rv
+mdatabase
+getofflineopforkey
+keys
+keyindex
+prtrue
+getteraddrefs
+op
+setflag
+msgfolderflagofflineevents
+nssucceeded
+rv
+op
+imapmessageflagstype
+newflags
+op
+getnewflags
+newflags
+addflags
+op
+setflagoperation
+newflags
+flags
+op
+setflagoperation
+newflags
+flags
+mdatabase
+commit
+nsmsgdbcommittype
+klargecommit
+rv
+nsimethodimp
+nsimapmailfolder
+liteselect
+nsiurllistener
+aurllistener
+nsresult
+rv
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+imapservice
+liteselectfolder
+meventqueue
+aurllistener
+nsnull
+nsresult
+nsimapmailfolder
+getfolderownerusername
+username
+mflags
+msgfolderflagimappersonal
+mflags
+msgfolderflagimappublic
+msgfolderflagimapotheruser
+nscomptr
+nsimsgincomingserver
+server
+nsresult
+rv
+getserver
+getteraddrefs
+server
+nssucceeded
+rv
+server
+server
+getusername
+username
+rv
+mflags
+msgfolderflagimapotheruser
+nsok
+mownerusername
+isempty
+nsxpidlcstring
+onlinename
+getonlinename
+gettercopies
+onlinename
+mownerusername
+nsimapnamespacelist
+getfolderownernamefrompath
+getnamespaceforfolder
+onlinename
+get
+username
+mownerusername
+isempty
+tonewcstring
+mownerusername
+nsnull
+nsok
+nsresult
+nsimapmailfolder
+getownersonlinefoldername
+retname
+nsxpidlcstring
+onlinename
+getonlinename
+gettercopies
+onlinename
+mflags
+msgfolderflagimapotheruser
+nsxpidlcstring
+user
+getfolderownerusername
+gettercopies
+user
+onlinename
+isempty
+user
+isempty
+where
+plstrstr
+onlinename
+get
+user
+get
+nsassertion
+where
+user
+name
+in
+online
+name
+where
+relativefolder
+where
+strlen
+user
+relativefolder
+retname
+plstrdup
+nsok
+retname
+plstrdup
+relativefolder
+nsok
+retname
+plstrdup
+onlinename
+get
+nsok
+mflags
+msgfolderflagimappublic
+retname
+nsimapnamespacelist
+getfoldernamewithoutnamespace
+getnamespaceforfolder
+onlinename
+retname
+plstrdup
+onlinename
+get
+nsok
+nsimapnamespace
+nsimapmailfolder
+getnamespaceforfolder
+mnamespace
+ifdef
+debugbienvenu
+nsassertion
+mhierarchydelimiter
+konlinehierarchyseparatorunknown
+haven
+set
+hierarchy
+delimiter
+endif
+nsxpidlcstring
+serverkey
+nsxpidlcstring
+onlinename
+getserverkey
+gettercopies
+serverkey
+getonlinename
+gettercopies
+onlinename
+prunichar
+hierarchydelimiter
+gethierarchydelimiter
+hierarchydelimiter
+mnamespace
+nsimapnamespacelist
+getnamespaceforfolder
+serverkey
+get
+onlinename
+get
+hierarchydelimiter
+nsassertion
+mnamespace
+didn
+get
+folder
+mnamespace
+nsimapnamespacelist
+suggesthierarchyseparatorfornamespace
+mnamespace
+hierarchydelimiter
+mfolderisnamespace
+nsimapnamespacelist
+getfolderisnamespace
+serverkey
+get
+onlinename
+get
+hierarchydelimiter
+mnamespace
+mnamespace
+nsimapmailfolder
+setnamespaceforfolder
+nsimapnamespace
+ns
+ifdef
+debugbienvenu
+nsassertion
+ns
+endif
+mnamespace
+ns
+nsresult
+nsimapmailfolder
+getserveradminurl
+aadminurl
+nscomptr
+nsiimapincomingserver
+imapserver
+nsresult
+rv
+getimapincomingserver
+getteraddrefs
+imapserver
+nssucceeded
+rv
+imapserver
+rv
+imapserver
+getmanagemailaccounturl
+aadminurl
+rv
+nsimethodimp
+nsimapmailfolder
+folderprivileges
+nsimsgwindow
+window
+nsresult
+rv
+nserrornullpointer
+window
+madminurl
+isempty
+nscomptr
+nsidocshell
+docshell
+rv
+window
+getrootdocshell
+getteraddrefs
+docshell
+nssucceeded
+rv
+docshell
+nscomptr
+nsiuri
+uri
+nsfailed
+rv
+nsnewuri
+getteraddrefs
+uri
+madminurl
+get
+rv
+rv
+docshell
+loaduri
+uri
+nsnull
+nsiwebnavigation
+loadflagsislink
+prfalse
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+imapservice
+getfolderadminurl
+meventqueue
+window
+nsnull
+nssucceeded
+rv
+murlrunning
+prtrue
+rv
+nsimethodimp
+nsimapmailfolder
+gethasadminurl
+prbool
+abool
+nsensureargpointer
+abool
+nsxpidlcstring
+managemailaccounturl
+nsresult
+rv
+getserveradminurl
+gettercopies
+managemailaccounturl
+abool
+nssucceeded
+rv
+managemailaccounturl
+isempty
+rv
+nsimethodimp
+nsimapmailfolder
+getadminurl
+aresult
+nsensureargpointer
+aresult
+aresult
+tonewcstring
+madminurl
+nsok
+nsimethodimp
+nsimapmailfolder
+setadminurl
+adminurl
+madminurl
+adminurl
+nsok
+nsimethodimp
+nsimapmailfolder
+gethdrparser
+nsimsgparsemailmsgstate
+ahdrparser
+nsensureargpointer
+ahdrparser
+nsifaddref
+ahdrparser
+mmsgparser
+nsok
+nsimethodimp
+nsimapmailfolder
+issuecommandonmsgs
+command
+uids
+nsimsgwindow
+awindow
+nsiuri
+url
+nsresult
+rv
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+imapservice
+issuecommandonmsgs
+meventqueue
+awindow
+command
+uids
+url
+nsimethodimp
+nsimapmailfolder
+fetchcustommsgattribute
+attribute
+uids
+nsimsgwindow
+awindow
+nsiuri
+url
+nsresult
+rv
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+imapservice
+fetchcustommsgattribute
+meventqueue
+awindow
+attribute
+uids
+url
+nsresult
+nsimapmailfolder
+moveincorporatedmessage
+nsimsgdbhdr
+mailhdr
+nsimsgdatabase
+sourcedb
+nsacstring
+destfolderuri
+nsimsgfilter
+filter
+nsimsgwindow
+msgwindow
+nsresult
+err
+nsok
+mmovecoalescer
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+krdfservicecid
+err
+nscomptr
+nsirdfresource
+res
+err
+rdf
+getresource
+destfolderuri
+getteraddrefs
+res
+nsfailed
+err
+err
+nscomptr
+nsimsgfolder
+destifolder
+doqueryinterface
+res
+err
+nsfailed
+err
+err
+destifolder
+prbool
+canfilemessages
+prtrue
+nscomptr
+nsifolder
+parentfolder
+destifolder
+getparent
+getteraddrefs
+parentfolder
+parentfolder
+destifolder
+getcanfilemessages
+canfilemessages
+parentfolder
+canfilemessages
+filter
+setenabled
+prfalse
+destifolder
+throwalertmsg
+filterdisabled
+msgwindow
+nsmsgnotamailfolder
+nsmsgkey
+keytofilter
+mailhdr
+getmessagekey
+keytofilter
+sourcedb
+destifolder
+prbool
+imapdeleteismovetotrash
+deleteismovetotrash
+mmovecoalescer
+addmove
+destifolder
+keytofilter
+imapdeleteismovetotrash
+destifolder
+setflag
+msgfolderflaggotnew
+imapdeleteismovetotrash
+err
+err
+nsimapmailfolder
+findkeystodelete
+nsmsgkeyarray
+existingkeys
+nsmsgkeyarray
+keystodelete
+nsiimapflaganduidstate
+flagstate
+prbool
+showdeletedmessages
+showdeletedmessages
+pruint
+total
+existingkeys
+getsize
+print
+messageindex
+onlineindex
+pruint
+keyindex
+keyindex
+total
+keyindex
+pruint
+uidofmessage
+flagstate
+getnumberofmessages
+messageindex
+onlineindex
+messageindex
+flagstate
+getuidofmessage
+onlineindex
+uidofmessage
+existingkeys
+keyindex
+uidofmessage
+onlineindex
+imapmessageflagstype
+flags
+flagstate
+getuidofmessage
+onlineindex
+uidofmessage
+flagstate
+getmessageflags
+onlineindex
+flags
+onlineindex
+messageindex
+existingkeys
+keyindex
+uidofmessage
+flags
+kimapmsgdeletedflag
+showdeletedmessages
+nsmsgkey
+doomedkey
+existingkeys
+keyindex
+print
+doomedkey
+doomedkey
+nsmsgkeynone
+keystodelete
+add
+existingkeys
+keyindex
+flagstate
+getuidofmessage
+onlineindex
+uidofmessage
+existingkeys
+keyindex
+uidofmessage
+onlineindex
+nsimapmailfolder
+findkeystoadd
+nsmsgkeyarray
+existingkeys
+nsmsgkeyarray
+keystofetch
+nsiimapflaganduidstate
+flagstate
+prbool
+showdeletedmessages
+showdeletedmessages
+dbindex
+print
+existtotal
+numberofknownkeys
+print
+messageindex
+existtotal
+numberofknownkeys
+existingkeys
+getsize
+flagstate
+getnumberofmessages
+messageindex
+print
+flagindex
+flagindex
+messageindex
+flagindex
+pruint
+uidofmessage
+flagstate
+getuidofmessage
+flagindex
+uidofmessage
+flagindex
+numberofknownkeys
+dbindex
+existtotal
+existingkeys
+dbindex
+uidofmessage
+dbindex
+flagindex
+numberofknownkeys
+dbindex
+existtotal
+existingkeys
+dbindex
+uidofmessage
+numberofknownkeys
+imapmessageflagstype
+flags
+flagstate
+getmessageflags
+flagindex
+flags
+nsassertion
+uidofmessage
+nsmsgkeynone
+got
+invalid
+msg
+key
+uidofmessage
+nsmsgkeynone
+showdeletedmessages
+flags
+kimapmsgdeletedflag
+mdatabase
+prbool
+dbcontainskey
+nssucceeded
+mdatabase
+containskey
+uidofmessage
+dbcontainskey
+dbcontainskey
+nsassertion
+prfalse
+db
+has
+key
+flagstate
+messed
+up
+keystofetch
+add
+uidofmessage
+nsimapmailfolder
+preparetoaddheaderstomaildb
+nsiimapprotocol
+aprotocol
+nsmsgkeyarray
+keystofetch
+nsimailboxspec
+boxspec
+pruint
+thekeys
+pruint
+prmalloc
+keystofetch
+getsize
+pruint
+thekeys
+pruint
+total
+keystofetch
+getsize
+pruint
+keyindex
+keyindex
+total
+keyindex
+thekeys
+keyindex
+keystofetch
+keyindex
+nsresult
+res
+nsok
+nssucceeded
+res
+setparsemailboxstate
+parseimapmailboxstate
+mmaster
+mhost
+urlqueue
+boxspec
+flagstate
+boxspec
+flagstate
+nsnull
+getparsemailboxstate
+setpane
+urlpane
+getparsemailboxstate
+setdb
+maildb
+getparsemailboxstate
+setincrementalupdate
+prtrue
+getparsemailboxstate
+setmaster
+mmaster
+getparsemailboxstate
+setcontext
+urlpane
+getcontext
+getparsemailboxstate
+setfolder
+getparsemailboxstate
+beginparsingfolder
+endif
+aprotocol
+aprotocol
+notifyhdrstodownload
+thekeys
+total
+aprotocol
+aprotocol
+notifybodystodownload
+nsnull
+aprotocol
+aprotocol
+notifyhdrstodownload
+nsnull
+nsimapmailfolder
+tweakheaderflags
+nsiimapprotocol
+aprotocol
+nsimsgdbhdr
+tweakme
+mdatabase
+aprotocol
+tweakme
+tweakme
+setmessagekey
+mcurmsguid
+tweakme
+setmessagesize
+mnextmessagebytelength
+prbool
+foundit
+prfalse
+imapmessageflagstype
+imapflags
+nsxpidlcstring
+customflags
+nsresult
+res
+aprotocol
+getflagsforuid
+mcurmsguid
+foundit
+imapflags
+gettercopies
+customflags
+nssucceeded
+res
+foundit
+pruint
+mask
+msgflagread
+msgflagreplied
+msgflagmarked
+msgflagimapdeleted
+msgflaglabels
+pruint
+dbhdrflags
+tweakme
+getflags
+dbhdrflags
+tweakme
+andflags
+mask
+dbhdrflags
+pruint
+newflags
+imapflags
+kimapmsgseenflag
+newflags
+msgflagread
+newflags
+msgflagnew
+pruint
+userflags
+res
+aprotocol
+getsupporteduserflags
+userflags
+nssucceeded
+res
+userflags
+kimapmsgsupportuserflag
+kimapmsgsupportmdnsentflag
+imapflags
+kimapmsgmdnsentflag
+newflags
+msgflagmdnreportsent
+dbhdrflags
+msgflagmdnreportneeded
+tweakme
+andflags
+msgflagmdnreportneeded
+dbhdrflags
+imapflags
+kimapmsgansweredflag
+newflags
+msgflagreplied
+imapflags
+kimapmsgflaggedflag
+newflags
+msgflagmarked
+imapflags
+kimapmsgdeletedflag
+newflags
+msgflagimapdeleted
+imapflags
+kimapmsgforwardedflag
+newflags
+msgflagforwarded
+imapflags
+kimapmsglabelflags
+tweakme
+setlabel
+imapflags
+kimapmsglabelflags
+newflags
+imapflags
+kimapmsglabelflags
+newflags
+tweakme
+orflags
+newflags
+dbhdrflags
+customflags
+isempty
+handlecustomflags
+mcurmsguid
+tweakme
+customflags
+nsimethodimp
+nsimapmailfolder
+setupmsgwritestream
+anativestring
+prbool
+adddummyenvelope
+nsresult
+rv
+nserrorfailure
+nsfilespec
+filespec
+anativestring
+filespec
+delete
+prfalse
+nscomptr
+nsisupports
+supports
+rv
+nsnewiofilestream
+getteraddrefs
+supports
+filespec
+prwronly
+prcreatefile
+prtruncate
+mtempmessagestream
+doqueryinterface
+supports
+mtempmessagestream
+adddummyenvelope
+nscautostring
+result
+ct
+pruint
+writecount
+timet
+now
+time
+timet
+ct
+ctime
+now
+ct
+result
+from
+result
+ct
+result
+msglinebreak
+mtempmessagestream
+write
+result
+get
+result
+length
+writecount
+result
+mozilla
+status
+result
+msglinebreak
+mtempmessagestream
+write
+result
+get
+result
+length
+writecount
+result
+mozilla
+status
+result
+msglinebreak
+mtempmessagestream
+write
+result
+get
+result
+length
+writecount
+rv
+nsimethodimp
+nsimapmailfolder
+downloadmessagesforoffline
+nsisupportsarray
+messages
+nsimsgwindow
+window
+nscautostring
+messageids
+nsmsgkeyarray
+srckeyarray
+nsresult
+rv
+buildidsandkeyarray
+messages
+messageids
+srckeyarray
+nsfailed
+rv
+messageids
+isempty
+rv
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+setnotifydownloadedlines
+prtrue
+imapservice
+downloadmessagesforoffline
+messageids
+get
+nsnull
+window
+nsimethodimp
+nsimapmailfolder
+downloadallforoffline
+nsiurllistener
+listener
+nsimsgwindow
+msgwindow
+nsresult
+rv
+nsok
+nscomptr
+nsiuri
+runninguri
+prbool
+noselect
+getflag
+msgfolderflagimapnoselect
+noselect
+noselect
+nscautostring
+messageidstodownload
+nsmsgkeyarray
+msgstodownload
+getdatabase
+msgwindow
+mdownloadingfolderforofflineuse
+prtrue
+setnotifydownloadedlines
+prtrue
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+imapservice
+selectfolder
+meventqueue
+listener
+msgwindow
+nsnull
+nssucceeded
+rv
+murlrunning
+prtrue
+nsmsgfolderunreadable
+rv
+nsimethodimp
+nsimapmailfolder
+getnotifydownloadedlines
+prbool
+notifydownloadedlines
+nsensurearg
+notifydownloadedlines
+notifydownloadedlines
+mdownloadmessageforofflineuse
+nsok
+nsimethodimp
+nsimapmailfolder
+setnotifydownloadedlines
+prbool
+notifydownloadedlines
+mdownloadmessageforofflineuse
+notifydownloadedlines
+nsok
+nsimethodimp
+nsimapmailfolder
+parseadoptedmsgline
+adoptedmessageline
+nsmsgkey
+uidofmessage
+pruint
+count
+nsresult
+rv
+nsok
+mcurmsguid
+uidofmessage
+mdownloadmessageforofflineuse
+mtempmessagestream
+getmessageheader
+uidofmessage
+getteraddrefs
+mofflineheader
+rv
+startnewofflinemessage
+mdownloadmessageforofflineuse
+nextline
+adoptedmessageline
+mnumofflinemsglines
+nextline
+plstrstr
+nextline
+msglinebreak
+nextline
+nextline
+msglinebreaklen
+nextline
+nextline
+mtempmessagestream
+rv
+mtempmessagestream
+write
+adoptedmessageline
+plstrlen
+adoptedmessageline
+count
+nsassertion
+nssucceeded
+rv
+failed
+to
+write
+to
+stream
+rv
+nsimethodimp
+nsimapmailfolder
+normalendmsgwritestream
+nsmsgkey
+uidofmessage
+prbool
+markread
+nsiimapurl
+imapurl
+nsresult
+res
+nsok
+prbool
+commit
+prfalse
+prbool
+needmsgid
+prfalse
+mofflineheader
+endnewofflinemessage
+commit
+prtrue
+mtempmessagestream
+mtempmessagestream
+close
+mtempmessagestream
+nsnull
+nscomptr
+nsimsgdbhdr
+msghdr
+mcurmsguid
+uidofmessage
+res
+getmessageheader
+mcurmsguid
+getteraddrefs
+msghdr
+msghdr
+markread
+prbool
+isread
+msghdr
+getisread
+isread
+isread
+msghdr
+markread
+prtrue
+commit
+prtrue
+commit
+mdatabase
+mdatabase
+commit
+nsmsgdbcommittype
+klargecommit
+res
+nsimethodimp
+nsimapmailfolder
+abortmsgwritestream
+nserrorfailure
+nsimethodimp
+nsimapmailfolder
+onlinecopycompleted
+nsiimapprotocol
+aprotocol
+imaponlinecopystate
+acopystate
+nsensureargpointer
+aprotocol
+nsresult
+rv
+acopystate
+imaponlinecopystatetype
+ksuccessfulcopy
+nscomptr
+nsiimapurl
+imapurl
+rv
+aprotocol
+getrunningimapurl
+getteraddrefs
+imapurl
+nsfailed
+rv
+imapurl
+nserrorfailure
+nsimapaction
+action
+rv
+imapurl
+getimapaction
+action
+nsfailed
+rv
+rv
+action
+nsiimapurl
+nsimaponlinetoofflinemove
+nsxpidlcstring
+messageids
+rv
+imapurl
+createlistofmessageidsstring
+gettercopies
+messageids
+nsfailed
+rv
+rv
+nscomptr
+nsieventqueue
+queue
+nscomptr
+nsieventqueueservice
+peventqservice
+dogetservice
+keventqueueservicecid
+rv
+nsfailed
+rv
+rv
+rv
+peventqservice
+getthreadeventqueue
+nscurrentthread
+getteraddrefs
+queue
+nsfailed
+rv
+rv
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+imapservice
+addmessageflags
+queue
+nsnull
+nsnull
+messageids
+kimapmsgdeletedflag
+prtrue
+nssucceeded
+rv
+nsmsgkeyarray
+affectedmessages
+keytokenstring
+nscrt
+strdup
+messageids
+parseuidstring
+keytokenstring
+affectedmessages
+mdatabase
+mdatabase
+deletemessages
+affectedmessages
+nsnull
+nscrt
+free
+keytokenstring
+rv
+nserrorfailure
+mcopystate
+nscomptr
+nsimsgfolder
+srcfolder
+srcfolder
+doqueryinterface
+mcopystate
+msrcsupport
+rv
+srcfolder
+srcfolder
+notifyfolderevent
+mdeleteormovemsgcompletedatom
+nserrorfailure
+rv
+nsimethodimp
+nsimapmailfolder
+preparetoreleaseobject
+nsisupports
+asupports
+nsassertion
+msupportstorelease
+can
+prepare
+to
+release
+releasing
+prev
+object
+msupportstorelease
+asupports
+nsok
+nsimethodimp
+nsimapmailfolder
+releaseobject
+msupportstorelease
+nsnull
+nsok
+nsimethodimp
+nsimapmailfolder
+closemockchannel
+nsiimapmockchannel
+achannel
+achannel
+close
+nsok
+nsimethodimp
+nsimapmailfolder
+releaseurlcacheentry
+nsimsgmailnewsurl
+aurl
+aurl
+aurl
+setmemcacheentry
+nsnull
+nsok
+nsimethodimp
+nsimapmailfolder
+beginmessageupload
+nserrorfailure
+nsresult
+nsimapmailfolder
+handlecustomflags
+nsmsgkey
+uidofmessage
+nsimsgdbhdr
+dbhdr
+nsxpidlcstring
+keywords
+prbool
+messageclassified
+prtrue
+nsxpidlcstring
+constiterator
+findinreadable
+nsliteralcstring
+nonjunk
+keywords
+beginreading
+keywords
+endreading
+mdatabase
+setstringproperty
+uidofmessage
+junkscore
+findinreadable
+nsliteralcstring
+notjunk
+keywords
+beginreading
+keywords
+endreading
+mdatabase
+setstringproperty
+uidofmessage
+junkscore
+findinreadable
+nsliteralcstring
+junk
+keywords
+beginreading
+keywords
+endreading
+mdatabase
+setstringproperty
+uidofmessage
+junkscore
+messageclassified
+prfalse
+messageclassified
+nsxpidlcstring
+existingproperty
+dbhdr
+getstringproperty
+junkscoreorigin
+gettercopies
+existingproperty
+existingproperty
+isempty
+dbhdr
+setstringproperty
+junkscoreorigin
+plugin
+dbhdr
+setstringproperty
+keywords
+keywords
+nsresult
+nsimapmailfolder
+syncflags
+nsiimapflaganduidstate
+flagstate
+nsresult
+rv
+getdatabase
+nsnull
+nsensuresuccess
+rv
+rv
+print
+messageindex
+pruint
+messagesize
+pruint
+oldfoldersize
+mfoldersize
+mfoldersize
+flagstate
+getnumberofmessages
+messageindex
+print
+flagindex
+flagindex
+messageindex
+flagindex
+pruint
+uidofmessage
+flagstate
+getuidofmessage
+flagindex
+uidofmessage
+imapmessageflagstype
+flags
+flagstate
+getmessageflags
+flagindex
+flags
+nscomptr
+nsimsgdbhdr
+dbhdr
+prbool
+containskey
+rv
+mdatabase
+containskey
+uidofmessage
+containskey
+nsfailed
+rv
+containskey
+rv
+mdatabase
+getmsghdrforkey
+uidofmessage
+getteraddrefs
+dbhdr
+nssucceeded
+dbhdr
+getmessagesize
+messagesize
+mfoldersize
+messagesize
+flags
+kimapmsgcustomkeywordflag
+nsxpidlcstring
+keywords
+nssucceeded
+flagstate
+getcustomflags
+uidofmessage
+gettercopies
+keywords
+keywords
+isempty
+dbhdr
+nssucceeded
+rv
+handlecustomflags
+uidofmessage
+dbhdr
+keywords
+notifymessageflagsfromhdr
+dbhdr
+uidofmessage
+flags
+oldfoldersize
+mfoldersize
+notifyintpropertychanged
+kfoldersizeatom
+oldfoldersize
+mfoldersize
+nsok
+nsresult
+nsimapmailfolder
+notifymessageflagsfromhdr
+nsimsgdbhdr
+dbhdr
+nsmsgkey
+msgkey
+pruint
+flags
+mdatabase
+markhdrread
+dbhdr
+flags
+kimapmsgseenflag
+nsnull
+mdatabase
+markhdrreplied
+dbhdr
+flags
+kimapmsgansweredflag
+nsnull
+mdatabase
+markhdrmarked
+dbhdr
+flags
+kimapmsgflaggedflag
+nsnull
+mdatabase
+markimapdeleted
+msgkey
+flags
+kimapmsgdeletedflag
+nsnull
+flags
+kimapmsglabelflags
+mdatabase
+setlabel
+msgkey
+flags
+kimapmsglabelflags
+flags
+kimapmsgmdnsentflag
+mdatabase
+markmdnsent
+msgkey
+prtrue
+nsnull
+nsok
+nsimethodimp
+nsimapmailfolder
+notifymessageflags
+pruint
+flags
+nsmsgkey
+msgkey
+nssucceeded
+getdatabase
+nsnull
+mdatabase
+nscomptr
+nsimsgdbhdr
+dbhdr
+nsresult
+rv
+prbool
+containskey
+rv
+mdatabase
+containskey
+msgkey
+containskey
+nsfailed
+rv
+containskey
+rv
+rv
+mdatabase
+getmsghdrforkey
+msgkey
+getteraddrefs
+dbhdr
+nssucceeded
+rv
+dbhdr
+notifymessageflagsfromhdr
+dbhdr
+msgkey
+flags
+nsok
+nsimethodimp
+nsimapmailfolder
+notifymessagedeleted
+onlinefoldername
+prbool
+deleteallmsgs
+msgidstring
+doomedkeystring
+msgidstring
+prbool
+showdeletedmessages
+showdeletedmessages
+deleteallmsgs
+ifdef
+haveport
+tneofolderinfotransfer
+originalinfo
+nsnull
+nsimsgdatabase
+folderdb
+imapmaildb
+open
+getpathname
+prfalse
+folderdb
+getmaster
+wascreated
+esuccess
+originalinfo
+tneofolderinfotransfer
+folderdb
+mneofolderinfo
+folderdb
+forceclosed
+xpfileremove
+getpathname
+xpmailfoldersummary
+imapmaildb
+open
+getpathname
+prtrue
+folderdb
+getmaster
+wascreated
+esuccess
+originalinfo
+originalinfo
+transferfolderinfo
+folderdb
+mneofolderinfo
+originalinfo
+summarychanged
+folderdb
+close
+endif
+nsok
+keytokenstring
+plstrdup
+doomedkeystring
+nsmsgkeyarray
+affectedmessages
+parseuidstring
+keytokenstring
+affectedmessages
+doomedkeystring
+showdeletedmessages
+affectedmessages
+getsize
+getdatabase
+nsnull
+mdatabase
+mdatabase
+deletemessages
+affectedmessages
+nsnull
+doomedkeystring
+getdatabase
+nsnull
+mdatabase
+setimapdeletedflag
+mdatabase
+affectedmessages
+nsnull
+prfreeif
+keytokenstring
+nsok
+prbool
+nsimapmailfolder
+showdeletedmessages
+nsresult
+err
+nscomptr
+nsiimaphostsessionlist
+hostsession
+dogetservice
+kcimaphostsessionlist
+err
+prbool
+showdeleted
+prfalse
+nssucceeded
+err
+hostsession
+nsxpidlcstring
+serverkey
+getserverkey
+gettercopies
+serverkey
+err
+hostsession
+getshowdeletedmessagesforhost
+serverkey
+showdeleted
+showdeleted
+nscomptr
+nsiimapincomingserver
+imapserver
+nsresult
+rv
+getimapincomingserver
+getteraddrefs
+imapserver
+nssucceeded
+rv
+imapserver
+nsxpidlcstring
+specialtrashname
+rv
+imapserver
+gettrashfolderbyredirectortype
+gettercopies
+specialtrashname
+nssucceeded
+rv
+nsxpidlstring
+convertedname
+rv
+imapserver
+convertfoldername
+specialtrashname
+get
+gettercopies
+convertedname
+nssucceeded
+rv
+nsxpidlstring
+foldername
+getname
+gettercopies
+foldername
+substring
+foldername
+convertedname
+length
+equals
+convertedname
+nscaseinsensitivestringcomparator
+showdeleted
+prtrue
+showdeleted
+prbool
+nsimapmailfolder
+deleteismovetotrash
+nsresult
+err
+nscomptr
+nsiimaphostsessionlist
+hostsession
+dogetservice
+kcimaphostsessionlist
+err
+prbool
+rv
+prtrue
+nssucceeded
+err
+hostsession
+serverkey
+nsnull
+getserverkey
+serverkey
+err
+hostsession
+getdeleteismovetotrashforhost
+serverkey
+rv
+prfreeif
+serverkey
+rv
+nsresult
+nsimapmailfolder
+gettrashfolder
+nsimsgfolder
+ptrashfolder
+ptrashfolder
+nserrornullpointer
+nscomptr
+nsimsgfolder
+rootfolder
+nsresult
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nssucceeded
+rv
+pruint
+numfolders
+rv
+rootfolder
+getfolderswithflag
+msgfolderflagtrash
+numfolders
+ptrashfolder
+numfolders
+rv
+nserrorfailure
+rv
+nsimapmailfolder
+parseuidstring
+uidstring
+nsmsgkeyarray
+keys
+curchar
+uidstring
+prbool
+isrange
+prfalse
+int
+curtoken
+int
+savestarttoken
+curcharptr
+uidstring
+curchar
+curcharptr
+currentkeytoken
+curcharptr
+curchar
+curcharptr
+curchar
+curchar
+curchar
+curchar
+curcharptr
+curcharptr
+curtoken
+atoi
+currentkeytoken
+isrange
+savestarttoken
+curtoken
+keys
+add
+savestarttoken
+keys
+add
+curtoken
+isrange
+curchar
+isrange
+savestarttoken
+curtoken
+nsimapmailfolder
+setimapdeletedflag
+nsimsgdatabase
+maildb
+nsmsgkeyarray
+msgids
+prbool
+markdeleted
+nsresult
+markstatus
+pruint
+total
+msgids
+getsize
+pruint
+msgindex
+markstatus
+msgindex
+total
+msgindex
+markstatus
+maildb
+markimapdeleted
+msgids
+msgindex
+markdeleted
+nsnull
+nsimethodimp
+nsimapmailfolder
+getmessagesizefromdb
+id
+prbool
+idisuid
+pruint
+size
+nsresult
+rv
+nserrorfailure
+nsensurearg
+size
+size
+id
+mdatabase
+pruint
+key
+atoi
+id
+nscomptr
+nsimsgdbhdr
+mailhdr
+nsassertion
+idisuid
+ids
+must
+be
+uids
+to
+get
+message
+size
+idisuid
+rv
+mdatabase
+getmsghdrforkey
+key
+getteraddrefs
+mailhdr
+nssucceeded
+rv
+mailhdr
+rv
+mailhdr
+getmessagesize
+size
+rv
+nsimethodimp
+nsimapmailfolder
+setcontentmodified
+nsiimapurl
+aimapurl
+nsimapcontentmodifiedtype
+modified
+aimapurl
+setcontentmodified
+modified
+nsimethodimp
+nsimapmailfolder
+setimagecachesessionforurl
+nsimsgmailnewsurl
+mailurl
+nsresult
+rv
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsicachesession
+cachesession
+rv
+imapservice
+getcachesession
+getteraddrefs
+cachesession
+nssucceeded
+rv
+cachesession
+rv
+mailurl
+setimagecachesession
+cachesession
+rv
+nsimethodimp
+nsimapmailfolder
+getcurmovecopymessageflags
+nsiimapurl
+runningurl
+pruint
+aresult
+nscomptr
+nsisupports
+copystate
+runningurl
+getcopystate
+getteraddrefs
+copystate
+copystate
+nscomptr
+nsimapmailcopystate
+mailcopystate
+doqueryinterface
+copystate
+mailcopystate
+mailcopystate
+mmessage
+mailcopystate
+mmessage
+getflags
+aresult
+nsok
+nsimethodimp
+nsimapmailfolder
+onstartrequest
+nsirequest
+request
+nsisupports
+ctxt
+nsok
+nsimethodimp
+nsimapmailfolder
+onstoprequest
+nsirequest
+request
+nsisupports
+ctxt
+nsresult
+astatus
+nsok
+nsimethodimp
+nsimapmailfolder
+onstartrunningurl
+nsiuri
+aurl
+nsprecondition
+aurl
+sanity
+check
+need
+to
+be
+be
+running
+non
+url
+murlrunning
+prtrue
+nsok
+nsimethodimp
+nsimapmailfolder
+onstoprunningurl
+nsiuri
+aurl
+nsresult
+aexitcode
+nsresult
+rv
+nsok
+murlrunning
+prfalse
+mdownloadingfolderforofflineuse
+releasesemaphore
+nsstaticcast
+nsimsgimapmailfolder
+mdownloadingfolderforofflineuse
+prfalse
+nscomptr
+nsimsgmailsession
+session
+dogetservice
+nsmsgmailsessioncontractid
+rv
+aurl
+nscomptr
+nsimsgwindow
+msgwindow
+nscomptr
+nsimsgmailnewsurl
+mailurl
+doqueryinterface
+aurl
+nscomptr
+nsiimapurl
+imapurl
+doqueryinterface
+aurl
+prbool
+folderopen
+prfalse
+mailurl
+mailurl
+getmsgwindow
+getteraddrefs
+msgwindow
+session
+session
+isfolderopeninwindow
+folderopen
+ifdef
+debugbienvenu
+nsxpidlcstring
+urlspec
+aurl
+getspec
+gettercopies
+urlspec
+printf
+stop
+running
+url
+urlspec
+endif
+imapurl
+nsimapaction
+imapaction
+nsiimapurl
+nsimaptest
+imapurl
+getimapaction
+imapaction
+imapaction
+nsiimapurl
+nsimapmsgfetch
+imapaction
+nsiimapurl
+nsimapmsgdownloadforoffline
+setnotifydownloadedlines
+prfalse
+imapaction
+nsiimapurl
+nsimapdeletemsg
+nsiimapurl
+nsimaponlinemove
+nsiimapurl
+nsimaponlinecopy
+nssucceeded
+aexitcode
+folderopen
+updatefolder
+msgwindow
+updatependingcounts
+prtrue
+prfalse
+mcopystate
+nscomptr
+nsimsgfolder
+srcfolder
+doqueryinterface
+mcopystate
+msrcsupport
+rv
+mcopystate
+mismove
+mcopystate
+miscrossserverop
+nssucceeded
+aexitcode
+nscomptr
+nsimsgdatabase
+srcdb
+srcfolder
+rv
+srcfolder
+getmsgdatabase
+msgwindow
+getteraddrefs
+srcdb
+nssucceeded
+rv
+srcdb
+nscomptr
+nsimapmovecopymsgtxn
+msgtxn
+nsmsgkeyarray
+srckeyarray
+mcopystate
+mallowundo
+msgtxn
+doqueryinterface
+mcopystate
+mundomsgtxn
+msgtxn
+msgtxn
+getsrckeyarray
+srckeyarray
+nscautostring
+messageids
+rv
+buildidsandkeyarray
+mcopystate
+mmessages
+messageids
+srckeyarray
+nsensuresuccess
+rv
+rv
+showdeletedmessages
+srcdb
+deletemessages
+srckeyarray
+nsnull
+markmessagesimapdeleted
+srckeyarray
+prtrue
+srcdb
+srcfolder
+enablenotifications
+allmessagecountnotifications
+prtrue
+prtrue
+srcfolder
+notifyfolderevent
+mdeleteormovemsgcompletedatom
+srcfolder
+enablenotifications
+allmessagecountnotifications
+prtrue
+prtrue
+srcfolder
+notifyfolderevent
+mdeleteormovemsgfailedatom
+mcopystate
+mmsgwindow
+nssucceeded
+aexitcode
+nscomptr
+nsitransactionmanager
+txnmgr
+mcopystate
+mmsgwindow
+gettransactionmanager
+getteraddrefs
+txnmgr
+txnmgr
+txnmgr
+dotransaction
+mcopystate
+mundomsgtxn
+oncopycompleted
+mcopystate
+msrcsupport
+aexitcode
+folderopen
+mflags
+msgfolderflagtrash
+msgfolderflaginbox
+setmsgdatabase
+nsnull
+nsiimapurl
+nsimapsubtractmsgflags
+imapmessageflagstype
+flags
+imapurl
+getmsgflags
+flags
+flags
+kimapmsgdeletedflag
+showdeletedmessages
+nscomptr
+nsimsgdatabase
+db
+rv
+getmsgdatabase
+nsnull
+getteraddrefs
+db
+nssucceeded
+rv
+db
+nsmsgkeyarray
+keyarray
+keystring
+imapurl
+createlistofmessageidsstring
+keystring
+keystring
+parseuidstring
+keystring
+keyarray
+markmessagesimapdeleted
+keyarray
+prfalse
+db
+db
+commit
+nsmsgdbcommittype
+klargecommit
+nscrt
+free
+keystring
+nsiimapurl
+nsimapaddmsgflags
+imapmessageflagstype
+flags
+imapurl
+getmsgflags
+flags
+flags
+kimapmsgdeletedflag
+showdeletedmessages
+nscomptr
+nsimsgdatabase
+db
+rv
+getmsgdatabase
+nsnull
+getteraddrefs
+db
+nssucceeded
+rv
+db
+nsmsgkeyarray
+keyarray
+keystring
+nsnull
+imapurl
+createlistofmessageidsstring
+keystring
+keystring
+parseuidstring
+keystring
+keyarray
+db
+deletemessages
+keyarray
+nsnull
+db
+setsummaryvalid
+prtrue
+db
+commit
+nsmsgdbcommittype
+klargecommit
+nscrt
+free
+keystring
+notifyfolderevent
+mdeleteormovemsgcompletedatom
+nsiimapurl
+nsimapappendmsgfromfile
+nsiimapurl
+nsimapappenddraftfromfile
+mcopystate
+nssucceeded
+aexitcode
+updatependingcounts
+prtrue
+prfalse
+mcopystate
+mcurindex
+mcopystate
+mcurindex
+mcopystate
+mtotalcount
+folderopen
+updatefolder
+msgwindow
+mcopystate
+mmsgwindow
+mcopystate
+mundomsgtxn
+nscomptr
+nsitransactionmanager
+txnmgr
+mcopystate
+mmsgwindow
+gettransactionmanager
+getteraddrefs
+txnmgr
+txnmgr
+txnmgr
+dotransaction
+mcopystate
+mundomsgtxn
+oncopycompleted
+mcopystate
+msrcsupport
+aexitcode
+oncopycompleted
+mcopystate
+msrcsupport
+aexitcode
+nsiimapurl
+nsimaprenamefolder
+nsfailed
+aexitcode
+nscomptr
+nsiatom
+folderrenameatom
+folderrenameatom
+getteraddrefs
+nsnewatom
+renamecompleted
+notifyfolderevent
+folderrenameatom
+nsiimapurl
+nsimapdeleteallmsgs
+nssucceeded
+aexitcode
+folderopen
+updatefolder
+msgwindow
+changenumpendingtotalmessages
+mnumpendingtotalmessages
+changenumpendingunread
+mnumpendingunreadmessages
+nsiimapurl
+nsimaprefreshfolderurls
+madminurl
+isempty
+folderprivileges
+msgwindow
+nsiimapurl
+nsimapcreatefolder
+nsfailed
+aexitcode
+nscomptr
+nsiatom
+foldercreateatom
+foldercreateatom
+getteraddrefs
+nsnewatom
+foldercreatefailed
+notifyfolderevent
+foldercreateatom
+nsiimapurl
+nsimapsubscribe
+nssucceeded
+aexitcode
+msgwindow
+nsxpidlcstring
+canonicalfoldername
+imapurl
+createcanonicalsourcefolderpathstring
+gettercopies
+canonicalfoldername
+nscomptr
+nsimsgfolder
+rootfolder
+nsresult
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nssucceeded
+rv
+rootfolder
+nscomptr
+nsimsgimapmailfolder
+imaproot
+doqueryinterface
+rootfolder
+imaproot
+nscomptr
+nsimsgimapmailfolder
+foundfolder
+rv
+imaproot
+findonlinesubfolder
+canonicalfoldername
+getteraddrefs
+foundfolder
+nssucceeded
+rv
+foundfolder
+nsxpidlcstring
+uri
+nscomptr
+nsimsgfolder
+msgfolder
+doqueryinterface
+foundfolder
+msgfolder
+msgfolder
+geturi
+gettercopies
+uri
+msgwindow
+selectfolder
+uri
+get
+rv
+nsmsgdbfolder
+onstoprunningurl
+aurl
+aexitcode
+mailurl
+rv
+mailurl
+unregisterlistener
+msgwindow
+nscomptr
+nsimsgincomingserver
+server
+getserver
+getteraddrefs
+server
+server
+server
+setperformingbiff
+prfalse
+mperformingbiff
+prfalse
+setgettingnewmessages
+prfalse
+murllistener
+murllistener
+onstoprunningurl
+aurl
+aexitcode
+murllistener
+nsnull
+rv
+nsimapmailfolder
+updatependingcounts
+prbool
+countunread
+prbool
+missingareread
+nsresult
+rv
+mcopystate
+mcopystate
+miscrossserverop
+changenumpendingtotalmessages
+mcopystate
+mtotalcount
+changenumpendingtotalmessages
+countunread
+numunread
+nscomptr
+nsimsgfolder
+srcfolder
+doqueryinterface
+mcopystate
+msrcsupport
+mcopystate
+miscrossserverop
+pruint
+keyindex
+keyindex
+mcopystate
+mtotalcount
+keyindex
+nscomptr
+nsimsgdbhdr
+message
+doqueryelementat
+mcopystate
+mmessages
+keyindex
+rv
+prbool
+isread
+missingareread
+pruint
+flags
+message
+message
+getflags
+flags
+isread
+flags
+msgflagread
+isread
+numunread
+nscomptr
+nsimsgdbhdr
+message
+doqueryelementat
+mcopystate
+mmessages
+mcopystate
+mcurindex
+rv
+prbool
+isread
+missingareread
+pruint
+flags
+message
+message
+getflags
+flags
+isread
+flags
+msgflagread
+isread
+numunread
+numunread
+changenumpendingunread
+numunread
+summarychanged
+nsimethodimp
+nsimapmailfolder
+clearfolderrights
+nsiimapprotocol
+aprotocol
+nsimapaclrightsinfo
+aclrights
+setfolderneedsacllisted
+prfalse
+mfolderacl
+mfolderacl
+nsmsgimapfolderacl
+nsok
+nsimethodimp
+nsimapmailfolder
+addfolderrights
+username
+rights
+setfolderneedsacllisted
+prfalse
+getfolderacl
+setfolderrightsforuser
+username
+rights
+nsok
+nsimethodimp
+nsimapmailfolder
+refreshfolderrights
+getfolderacl
+getisfoldershared
+setflag
+msgfolderflagpersonalshared
+clearflag
+msgfolderflagpersonalshared
+nsok
+nsimethodimp
+nsimapmailfolder
+setcopyresponseuid
+nsiimapprotocol
+aprotocol
+nsmsgkeyarray
+akeyarray
+msgidstring
+nsiimapurl
+aurl
+nsresult
+rv
+nsok
+nscomptr
+nsimapmovecopymsgtxn
+msgtxn
+nscomptr
+nsisupports
+copystate
+aurl
+aurl
+getcopystate
+getteraddrefs
+copystate
+copystate
+nscomptr
+nsimapmailcopystate
+mailcopystate
+doqueryinterface
+copystate
+rv
+nsfailed
+rv
+rv
+mailcopystate
+mundomsgtxn
+msgtxn
+doqueryinterface
+mailcopystate
+mundomsgtxn
+rv
+msgtxn
+msgtxn
+setcopyresponseuid
+akeyarray
+msgidstring
+nsok
+nsimethodimp
+nsimapmailfolder
+startmessage
+nsimsgmailnewsurl
+aurl
+nscomptr
+nsiimapurl
+imapurl
+doqueryinterface
+aurl
+nscomptr
+nsisupports
+copystate
+nsensuretrue
+imapurl
+nserrorfailure
+imapurl
+getcopystate
+getteraddrefs
+copystate
+copystate
+nscomptr
+nsicopymessagestreamlistener
+listener
+doqueryinterface
+copystate
+listener
+listener
+startmessage
+nsok
+nsimethodimp
+nsimapmailfolder
+endmessage
+nsimsgmailnewsurl
+aurl
+nsmsgkey
+uidofmessage
+nscomptr
+nsiimapurl
+imapurl
+doqueryinterface
+aurl
+nscomptr
+nsisupports
+copystate
+nsensuretrue
+imapurl
+nserrorfailure
+imapurl
+getcopystate
+getteraddrefs
+copystate
+copystate
+nscomptr
+nsicopymessagestreamlistener
+listener
+doqueryinterface
+copystate
+listener
+listener
+endmessage
+uidofmessage
+nsok
+define
+whitespace
+nsimethodimp
+nsimapmailfolder
+notifysearchhit
+nsimsgmailnewsurl
+aurl
+searchhitline
+nsresult
+rv
+getdatabase
+nsnull
+mdatabase
+nsfailed
+rv
+rv
+tokenstring
+nscrt
+strdup
+searchhitline
+tokenstring
+currentposition
+plstrcasestr
+tokenstring
+search
+currentposition
+currentposition
+strlen
+search
+newstr
+prbool
+shownupdatealert
+prfalse
+hituidtoken
+nscrt
+strtok
+currentposition
+whitespace
+newstr
+hituidtoken
+naturallong
+sscanf
+hituidtoken
+ld
+naturallong
+nsmsgkey
+hituid
+nsmsgkey
+naturallong
+nscomptr
+nsimsgdbhdr
+hitheader
+rv
+mdatabase
+getmsghdrforkey
+hituid
+getteraddrefs
+hitheader
+nssucceeded
+rv
+hitheader
+nscomptr
+nsimsgsearchsession
+searchsession
+nscomptr
+nsimsgsearchadapter
+searchadapter
+aurl
+getsearchsession
+getteraddrefs
+searchsession
+searchsession
+searchsession
+getrunningadapter
+getteraddrefs
+searchadapter
+searchadapter
+searchadapter
+addresultelement
+hitheader
+shownupdatealert
+fealert
+context
+xpgetstring
+mkmsgsearchhitsnotindb
+shownupdatealert
+prtrue
+endif
+hituidtoken
+nscrt
+strtok
+newstr
+whitespace
+newstr
+nscrt
+free
+tokenstring
+nserroroutofmemory
+nsok
+nsimethodimp
+nsimapmailfolder
+setappendmsguid
+nsiimapprotocol
+aprotocol
+nsmsgkey
+akey
+nsiimapurl
+aurl
+nsresult
+rv
+nsok
+nscomptr
+nsisupports
+copystate
+aurl
+aurl
+getcopystate
+getteraddrefs
+copystate
+copystate
+nscomptr
+nsimapmailcopystate
+mailcopystate
+doqueryinterface
+copystate
+rv
+nsfailed
+rv
+rv
+mailcopystate
+mundomsgtxn
+nscomptr
+nsimapmovecopymsgtxn
+msgtxn
+msgtxn
+doqueryinterface
+mailcopystate
+mundomsgtxn
+rv
+nssucceeded
+rv
+msgtxn
+adddstkey
+akey
+mailcopystate
+mlistener
+mailcopystate
+mlistener
+setmessagekey
+akey
+nsok
+nsimethodimp
+nsimapmailfolder
+getmessageid
+nsiimapprotocol
+aprotocl
+nscstring
+messageid
+nsiimapurl
+aurl
+nsresult
+rv
+nsok
+nscomptr
+nsisupports
+copystate
+aurl
+aurl
+getcopystate
+getteraddrefs
+copystate
+copystate
+nscomptr
+nsimapmailcopystate
+mailcopystate
+doqueryinterface
+copystate
+rv
+nsfailed
+rv
+rv
+mailcopystate
+mlistener
+rv
+mailcopystate
+mlistener
+getmessageid
+messageid
+nssucceeded
+rv
+messageid
+length
+messageid
+first
+messageid
+cut
+messageid
+last
+messageid
+setlength
+messageid
+length
+rv
+nsimethodimp
+nsimapmailfolder
+addsearchresult
+nsiimapprotocol
+aprotocol
+searchhitline
+nserrorfailure
+nsimethodimp
+nsimapmailfolder
+headerfetchcompleted
+nsiimapprotocol
+aprotocol
+nscomptr
+nsimsgwindow
+msgwindow
+mdatabase
+mdatabase
+commit
+nsmsgdbcommittype
+klargecommit
+setsizeondisk
+mfoldersize
+mmovecoalescer
+mmovecoalescer
+playbackmoves
+aprotocol
+prbool
+autodownloadnewheaders
+prfalse
+mflags
+msgfolderflaginbox
+nscomptr
+nsiimapincomingserver
+imapserver
+nsresult
+rv
+getimapincomingserver
+getteraddrefs
+imapserver
+nssucceeded
+rv
+imapserver
+imapserver
+getdownloadbodiesongetnewmail
+autodownloadnewheaders
+autodownloadnewheaders
+nssucceeded
+acquiresemaphore
+nsstaticcast
+nsimsgimapmailfolder
+mdownloadingfolderforofflineuse
+prtrue
+mdownloadingfolderforofflineuse
+nsmsgkeyarray
+keystodownload
+getbodystodownload
+keystodownload
+keystodownload
+getsize
+setnotifydownloadedlines
+prtrue
+aprotocol
+notifybodystodownload
+keystodownload
+getarray
+keystodownload
+getsize
+aprotocol
+notifybodystodownload
+nsnull
+nscomptr
+nsiuri
+runninguri
+aprotocol
+getrunningurl
+getteraddrefs
+runninguri
+runninguri
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+runninguri
+mailnewsurl
+mailnewsurl
+getmsgwindow
+getteraddrefs
+msgwindow
+callfilterplugins
+msgwindow
+mfilterlist
+mfilterlist
+flushlogifnecessary
+nsok
+nsimethodimp
+nsimapmailfolder
+setbiffstateandupdate
+nsiimapprotocol
+aprotocol
+nsmsgbiffstate
+biffstate
+setbiffstate
+biffstate
+nsok
+nsimethodimp
+nsimapmailfolder
+getuidvalidity
+print
+uidvalidity
+nsensurearg
+uidvalidity
+uidvalidity
+muidvalidity
+nsok
+nsimethodimp
+nsimapmailfolder
+setuidvalidity
+print
+uidvalidity
+muidvalidity
+uidvalidity
+nsok
+nsimethodimp
+nsimapmailfolder
+fillinfolderprops
+nsimsgimapfolderprops
+afolderprops
+nsensurearg
+afolderprops
+pruint
+foldertypestringid
+pruint
+foldertypedescstringid
+pruint
+folderquotastatusstringid
+nsxpidlstring
+foldertype
+nsxpidlstring
+foldertypedesc
+nsxpidlstring
+folderquotastatusdesc
+nscomptr
+nsistringbundle
+bundle
+nsresult
+rv
+imapgetstringbundle
+getteraddrefs
+bundle
+nsensuresuccess
+rv
+rv
+pruint
+capability
+kcapabilityundefined
+nscomptr
+nsiimaphostsessionlist
+hostsession
+dogetservice
+kcimaphostsessionlist
+rv
+nssucceeded
+rv
+hostsession
+nsxpidlcstring
+serverkey
+getserverkey
+gettercopies
+serverkey
+hostsession
+getcapabilityforhost
+serverkey
+capability
+capability
+kquotacapability
+mfolderquotacommandissued
+mfolderquotadataisvalid
+folderquotastatusstringid
+afolderprops
+setquotadata
+mfolderquotaroot
+mfolderquotausedkb
+mfolderquotamaxkb
+folderquotastatusstringid
+imapquotastatusnoquota
+folderquotastatusstringid
+imapquotastatusfoldernotopen
+folderquotastatusstringid
+capability
+kcapabilityundefined
+imapquotastatusfoldernotopen
+imapquotastatusnotsupported
+folderquotastatusstringid
+afolderprops
+showquotadata
+prtrue
+afolderprops
+showquotadata
+prfalse
+rv
+imapgetstringbyid
+folderquotastatusstringid
+gettercopies
+folderquotastatusdesc
+nssucceeded
+rv
+afolderprops
+setquotastatus
+folderquotastatusdesc
+capability
+kaclcapability
+rv
+imapgetstringbyid
+imapserverdoesntsupportacl
+gettercopies
+foldertypedesc
+nssucceeded
+rv
+afolderprops
+setfoldertypedescription
+foldertypedesc
+afolderprops
+serverdoesntsupportacl
+nsok
+mflags
+msgfolderflagimappublic
+foldertypestringid
+imappublicfoldertypename
+foldertypedescstringid
+imappublicfoldertypedescription
+mflags
+msgfolderflagimapotheruser
+foldertypestringid
+imapotherusersfoldertypename
+nsxpidlcstring
+owner
+nsxpidlstring
+uniowner
+getfolderownerusername
+gettercopies
+owner
+owner
+isempty
+rv
+imapgetstringbyid
+foldertypestringid
+gettercopies
+uniowner
+nsassertion
+prfalse
+couldn
+get
+owner
+name
+other
+user
+folder
+uniowner
+assign
+nsconvertasciitoucs
+owner
+get
+prunichar
+params
+uniowner
+get
+rv
+bundle
+formatstringfromid
+imapotherusersfoldertypedescription
+params
+gettercopies
+foldertypedesc
+getfolderacl
+getisfoldershared
+foldertypestringid
+imappersonalsharedfoldertypename
+foldertypedescstringid
+imappersonalsharedfoldertypedescription
+foldertypestringid
+imappersonalsharedfoldertypename
+foldertypedescstringid
+imappersonalfoldertypedescription
+rv
+imapgetstringbyid
+foldertypestringid
+gettercopies
+foldertype
+nssucceeded
+rv
+afolderprops
+setfoldertype
+foldertype
+foldertypedesc
+isempty
+foldertypedescstringid
+rv
+imapgetstringbyid
+foldertypedescstringid
+gettercopies
+foldertypedesc
+foldertypedesc
+isempty
+afolderprops
+setfoldertypedescription
+foldertypedesc
+get
+nsxpidlstring
+rightsstring
+rv
+createaclrightsstringforfolder
+gettercopies
+rightsstring
+nssucceeded
+rv
+afolderprops
+setfolderpermissions
+rightsstring
+get
+nsok
+nsimethodimp
+nsimapmailfolder
+setaclflags
+pruint
+aclflags
+nscomptr
+nsidbfolderinfo
+dbfolderinfo
+nsresult
+rv
+getdatabase
+nsnull
+mdatabase
+rv
+mdatabase
+getdbfolderinfo
+getteraddrefs
+dbfolderinfo
+nssucceeded
+rv
+dbfolderinfo
+dbfolderinfo
+setuintproperty
+aclflags
+aclflags
+rv
+nsimethodimp
+nsimapmailfolder
+getaclflags
+pruint
+aclflags
+nsensureargpointer
+aclflags
+nscomptr
+nsidbfolderinfo
+dbfolderinfo
+nsresult
+rv
+getdatabase
+nsnull
+mdatabase
+rv
+mdatabase
+getdbfolderinfo
+getteraddrefs
+dbfolderinfo
+nssucceeded
+rv
+dbfolderinfo
+rv
+dbfolderinfo
+getuintproperty
+aclflags
+aclflags
+rv
+nsimethodimp
+nsimapmailfolder
+getcaniopenthisfolder
+prbool
+abool
+nsensureargpointer
+abool
+prbool
+noselect
+getflag
+msgfolderflagimapnoselect
+noselect
+abool
+noselect
+prfalse
+getfolderacl
+getcanireadfolder
+nsok
+define
+imapaclanyonestring
+anyone
+prbool
+nsmsgimapfolderacl
+freehashrights
+nshashkey
+akey
+adata
+closure
+prfreeif
+adata
+prtrue
+nsmsgimapfolderacl
+nsmsgimapfolderacl
+nsimapmailfolder
+folder
+nsassertion
+folder
+need
+folder
+mfolder
+folder
+mrightshash
+nshashtable
+maclcount
+buildinitialaclfromcache
+nsmsgimapfolderacl
+nsmsgimapfolderacl
+mrightshash
+reset
+freehashrights
+nsnull
+mrightshash
+nsmsgimapfolderacl
+buildinitialaclfromcache
+nscautostring
+myrights
+pruint
+startingflags
+mfolder
+getaclflags
+startingflags
+startingflags
+imapaclreadflag
+myrights
+startingflags
+imapaclstoreseenflag
+myrights
+startingflags
+imapaclwriteflag
+myrights
+startingflags
+imapaclinsertflag
+myrights
+startingflags
+imapaclpostflag
+myrights
+startingflags
+imapaclcreatesubfolderflag
+myrights
+startingflags
+imapacldeleteflag
+myrights
+startingflags
+imapacladministerflag
+myrights
+myrights
+isempty
+setfolderrightsforuser
+nsnull
+myrights
+get
+nsmsgimapfolderacl
+updateaclcache
+pruint
+startingflags
+mfolder
+getaclflags
+startingflags
+getcanireadfolder
+startingflags
+imapaclreadflag
+startingflags
+imapaclreadflag
+getcanistoreseeninfolder
+startingflags
+imapaclstoreseenflag
+startingflags
+imapaclstoreseenflag
+getcaniwritefolder
+startingflags
+imapaclwriteflag
+startingflags
+imapaclwriteflag
+getcaniinsertinfolder
+startingflags
+imapaclinsertflag
+startingflags
+imapaclinsertflag
+getcaniposttofolder
+startingflags
+imapaclpostflag
+startingflags
+imapaclpostflag
+getcanicreatesubfolder
+startingflags
+imapaclcreatesubfolderflag
+startingflags
+imapaclcreatesubfolderflag
+getcanideleteinfolder
+startingflags
+imapacldeleteflag
+startingflags
+imapacldeleteflag
+getcaniadministerfolder
+startingflags
+imapacladministerflag
+startingflags
+imapacladministerflag
+mfolder
+setaclflags
+startingflags
+prbool
+nsmsgimapfolderacl
+setfolderrightsforuser
+username
+rights
+prbool
+rv
+prfalse
+nsxpidlcstring
+myusername
+mfolder
+getusername
+gettercopies
+myusername
+ourusername
+nsnull
+username
+ourusername
+plstrdup
+myusername
+get
+ourusername
+plstrdup
+username
+rightsweown
+plstrdup
+rights
+nscstringkey
+hashkey
+ourusername
+rightsweown
+ourusername
+oldvalue
+mrightshash
+get
+hashkey
+oldvalue
+prfreeif
+oldvalue
+mrightshash
+remove
+hashkey
+maclcount
+nsassertion
+maclcount
+acl
+count
+can
+go
+negative
+maclcount
+rv
+mrightshash
+put
+hashkey
+rightsweown
+ourusername
+myusername
+equals
+ourusername
+strcmp
+ourusername
+imapaclanyonestring
+updateaclcache
+rv
+nsmsgimapfolderacl
+getrightsstringforuser
+inusername
+nsxpidlcstring
+username
+username
+assign
+inusername
+username
+isempty
+nscomptr
+nsimsgincomingserver
+server
+nsresult
+rv
+mfolder
+getserver
+getteraddrefs
+server
+nsassertion
+nssucceeded
+rv
+error
+getting
+server
+nsfailed
+rv
+nsnull
+server
+getrealusername
+gettercopies
+username
+nscstringkey
+userkey
+username
+get
+mrightshash
+get
+userkey
+prbool
+nsmsgimapfolderacl
+getflagsetinrightsforuser
+username
+flag
+prbool
+defaultifnotfound
+flags
+getrightsstringforuser
+username
+flags
+anyoneflags
+getrightsstringforuser
+imapaclanyonestring
+anyoneflags
+defaultifnotfound
+strchr
+anyoneflags
+flag
+nsnull
+strchr
+flags
+flag
+nsnull
+prbool
+nsmsgimapfolderacl
+getcanuserlookupfolder
+username
+getflagsetinrightsforuser
+username
+prfalse
+prbool
+nsmsgimapfolderacl
+getcanuserreadfolder
+username
+getflagsetinrightsforuser
+username
+prfalse
+prbool
+nsmsgimapfolderacl
+getcanuserstoreseeninfolder
+username
+getflagsetinrightsforuser
+username
+prfalse
+prbool
+nsmsgimapfolderacl
+getcanuserwritefolder
+username
+getflagsetinrightsforuser
+username
+prfalse
+prbool
+nsmsgimapfolderacl
+getcanuserinsertinfolder
+username
+getflagsetinrightsforuser
+username
+prfalse
+prbool
+nsmsgimapfolderacl
+getcanuserposttofolder
+username
+getflagsetinrightsforuser
+username
+prfalse
+prbool
+nsmsgimapfolderacl
+getcanusercreatesubfolder
+username
+getflagsetinrightsforuser
+username
+prfalse
+prbool
+nsmsgimapfolderacl
+getcanuserdeleteinfolder
+username
+getflagsetinrightsforuser
+username
+prfalse
+prbool
+nsmsgimapfolderacl
+getcanuseradministerfolder
+username
+getflagsetinrightsforuser
+username
+prfalse
+prbool
+nsmsgimapfolderacl
+getcanilookupfolder
+getflagsetinrightsforuser
+nsnull
+prtrue
+prbool
+nsmsgimapfolderacl
+getcanireadfolder
+getflagsetinrightsforuser
+nsnull
+prtrue
+prbool
+nsmsgimapfolderacl
+getcanistoreseeninfolder
+getflagsetinrightsforuser
+nsnull
+prtrue
+prbool
+nsmsgimapfolderacl
+getcaniwritefolder
+getflagsetinrightsforuser
+nsnull
+prtrue
+prbool
+nsmsgimapfolderacl
+getcaniinsertinfolder
+getflagsetinrightsforuser
+nsnull
+prtrue
+prbool
+nsmsgimapfolderacl
+getcaniposttofolder
+getflagsetinrightsforuser
+nsnull
+prtrue
+prbool
+nsmsgimapfolderacl
+getcanicreatesubfolder
+getflagsetinrightsforuser
+nsnull
+prtrue
+prbool
+nsmsgimapfolderacl
+getcanideleteinfolder
+getflagsetinrightsforuser
+nsnull
+prtrue
+prbool
+nsmsgimapfolderacl
+getcaniadministerfolder
+getflagsetinrightsforuser
+nsnull
+prtrue
+prbool
+nsmsgimapfolderacl
+getisfoldershared
+maclcount
+prtrue
+nscstringkey
+hashkey
+imapaclanyonestring
+anyonesrights
+mrightshash
+get
+hashkey
+anyonesrights
+nsnull
+prbool
+nsmsgimapfolderacl
+getdoihavefullrightsforfolder
+getcanireadfolder
+getcaniwritefolder
+getcaniinsertinfolder
+getcaniadministerfolder
+getcanicreatesubfolder
+getcanideleteinfolder
+getcanilookupfolder
+getcanistoreseeninfolder
+getcaniposttofolder
+nsresult
+nsmsgimapfolderacl
+createaclrightsstring
+prunichar
+rightsstring
+nsautostring
+rights
+nsxpidlstring
+curright
+nscomptr
+nsistringbundle
+bundle
+nsresult
+rv
+imapgetstringbundle
+getteraddrefs
+bundle
+nsensuresuccess
+rv
+rv
+getdoihavefullrightsforfolder
+bundle
+getstringfromid
+imapaclfullrights
+rightsstring
+getcanireadfolder
+bundle
+getstringfromid
+imapaclreadright
+gettercopies
+curright
+rights
+append
+curright
+getcaniwritefolder
+rights
+isempty
+rights
+nsliteralstring
+bundle
+getstringfromid
+imapaclwriteright
+gettercopies
+curright
+rights
+append
+curright
+getcaniinsertinfolder
+rights
+isempty
+rights
+nsliteralstring
+bundle
+getstringfromid
+imapaclinsertright
+gettercopies
+curright
+rights
+append
+curright
+getcanilookupfolder
+rights
+isempty
+rights
+nsliteralstring
+bundle
+getstringfromid
+imapacllookupright
+gettercopies
+curright
+rights
+append
+curright
+getcanistoreseeninfolder
+rights
+isempty
+rights
+nsliteralstring
+bundle
+getstringfromid
+imapaclseenright
+gettercopies
+curright
+rights
+append
+curright
+getcanideleteinfolder
+rights
+isempty
+rights
+nsliteralstring
+bundle
+getstringfromid
+imapacldeleteright
+gettercopies
+curright
+rights
+append
+curright
+getcanicreatesubfolder
+rights
+isempty
+rights
+nsliteralstring
+bundle
+getstringfromid
+imapaclcreateright
+gettercopies
+curright
+rights
+append
+curright
+getcaniposttofolder
+rights
+isempty
+rights
+nsliteralstring
+bundle
+getstringfromid
+imapaclpostright
+gettercopies
+curright
+rights
+append
+curright
+getcaniadministerfolder
+rights
+isempty
+rights
+nsliteralstring
+bundle
+getstringfromid
+imapacladministerright
+gettercopies
+curright
+rights
+append
+curright
+rightsstring
+tonewunicode
+rights
+rv
+nsimethodimp
+nsimapmailfolder
+getpath
+nsifilespec
+apathname
+nsresult
+rv
+mpathname
+mpathname
+nsnativefilespec
+mpathname
+nserroroutofmemory
+rv
+nsimapuripath
+kimaprooturi
+muri
+mpathname
+nsfailed
+rv
+rv
+rv
+nsnewfilespecwithspec
+mpathname
+apathname
+nsok
+nsimethodimp
+nsimapmailfolder
+setpath
+nsifilespec
+apathname
+nsmsgfolder
+setpath
+apathname
+apathname
+nserrornullpointer
+mpathname
+mpathname
+nsfilespec
+mpathname
+nserroroutofmemory
+apathname
+getfilespec
+mpathname
+nsresult
+nsimapmailfolder
+displaystatusmsg
+nsiimapurl
+aimapurl
+prunichar
+msg
+nscomptr
+nsiimapmockchannel
+mockchannel
+aimapurl
+getmockchannel
+getteraddrefs
+mockchannel
+mockchannel
+nscomptr
+nsiprogresseventsink
+progresssink
+mockchannel
+getprogresseventsink
+getteraddrefs
+progresssink
+progresssink
+nscomptr
+nsirequest
+request
+doqueryinterface
+mockchannel
+request
+nserrorfailure
+progresssink
+onstatus
+request
+nsnull
+nsok
+msg
+nsok
+nsimethodimp
+nsimapmailfolder
+progressstatus
+nsiimapprotocol
+aprotocol
+pruint
+amsgid
+prunichar
+extrainfo
+nsxpidlstring
+progressmsg
+nscomptr
+nsimsgincomingserver
+server
+nsresult
+rv
+getserver
+getteraddrefs
+server
+nssucceeded
+rv
+server
+nscomptr
+nsiimapserversink
+serversink
+doqueryinterface
+server
+serversink
+serversink
+getimapstringbyid
+amsgid
+gettercopies
+progressmsg
+progressmsg
+isempty
+imapgetstringbyid
+amsgid
+gettercopies
+progressmsg
+aprotocol
+progressmsg
+isempty
+nscomptr
+nsiimapurl
+imapurl
+aprotocol
+getrunningimapurl
+getteraddrefs
+imapurl
+imapurl
+extrainfo
+prunichar
+printfstring
+nstextformatter
+smprintf
+progressmsg
+extrainfo
+printfstring
+progressmsg
+adopt
+printfstring
+displaystatusmsg
+imapurl
+progressmsg
+nsok
+nsimethodimp
+nsimapmailfolder
+percentprogress
+nsiimapprotocol
+aprotocol
+progressinfo
+ainfo
+aprotocol
+nscomptr
+nsiimapurl
+imapurl
+aprotocol
+getrunningimapurl
+getteraddrefs
+imapurl
+imapurl
+nscomptr
+nsiimapmockchannel
+mockchannel
+imapurl
+getmockchannel
+getteraddrefs
+mockchannel
+mockchannel
+nscomptr
+nsiprogresseventsink
+progresssink
+mockchannel
+getprogresseventsink
+getteraddrefs
+progresssink
+progresssink
+nscomptr
+nsirequest
+request
+doqueryinterface
+mockchannel
+request
+nserrorfailure
+progresssink
+onprogress
+request
+nsnull
+ainfo
+currentprogress
+ainfo
+maxprogress
+ainfo
+message
+progresssink
+onstatus
+request
+nsnull
+nsok
+ainfo
+message
+nsok
+nsimethodimp
+nsimapmailfolder
+copynextstreammessage
+prbool
+copysucceeded
+nsisupports
+copystate
+copysucceeded
+nsok
+nsresult
+rv
+nscomptr
+nsimapmailcopystate
+mailcopystate
+doqueryinterface
+copystate
+rv
+nsfailed
+rv
+rv
+mailcopystate
+mstreamcopy
+nsok
+mailcopystate
+mcurindex
+mailcopystate
+mtotalcount
+mailcopystate
+mmessage
+doqueryelementat
+mailcopystate
+mmessages
+mailcopystate
+mcurindex
+rv
+nssucceeded
+rv
+rv
+copystreammessage
+mailcopystate
+mmessage
+mailcopystate
+mmsgwindow
+mailcopystate
+mismove
+mailcopystate
+mismove
+nscomptr
+nsimsgfolder
+srcfolder
+doqueryinterface
+mailcopystate
+msrcsupport
+rv
+nssucceeded
+rv
+srcfolder
+srcfolder
+deletemessages
+mailcopystate
+mmessages
+nsnull
+prtrue
+prtrue
+nsnull
+prfalse
+nscomptr
+nsimsglocalmailfolder
+popfolder
+doqueryinterface
+srcfolder
+popfolder
+srcfolder
+notifyfolderevent
+mdeleteormovemsgcompletedatom
+rv
+nsimethodimp
+nsimapmailfolder
+seturlstate
+nsiimapprotocol
+aprotocol
+nsimsgmailnewsurl
+aurl
+prbool
+isrunning
+nsresult
+statuscode
+isrunning
+progressstatus
+aprotocol
+imapdone
+nsnull
+murlrunning
+prfalse
+mdownloadingfolderforofflineuse
+releasesemaphore
+nsstaticcast
+nsimsgimapmailfolder
+mdownloadingfolderforofflineuse
+prfalse
+aurl
+aurl
+seturlstate
+isrunning
+statuscode
+statuscode
+nsresult
+nsimapmailfolder
+createdirectoryforfolder
+nsfilespec
+path
+nsresult
+rv
+nsok
+path
+isdirectory
+rv
+adddirectoryseparator
+path
+nsfailed
+rv
+rv
+nsfilespec
+temppath
+path
+getnativepathcstring
+prtrue
+path
+isdirectory
+path
+exists
+nsmsgcouldnotcreatedirectory
+path
+createdirectory
+path
+isdirectory
+nsmsgcouldnotcreatedirectory
+rv
+nsresult
+nsimapmailfolder
+copymessageswithstream
+nsimsgfolder
+srcfolder
+nsisupportsarray
+messages
+prbool
+ismove
+prbool
+iscrossserverop
+nsimsgwindow
+msgwindow
+nsimsgcopyservicelistener
+listener
+prbool
+allowundo
+nsresult
+rv
+nserrornullpointer
+srcfolder
+messages
+rv
+nscomptr
+nsisupports
+asupport
+doqueryinterface
+srcfolder
+rv
+nsfailed
+rv
+rv
+rv
+initcopystate
+asupport
+messages
+ismove
+prfalse
+listener
+msgwindow
+allowundo
+nsfailed
+rv
+rv
+mcopystate
+mstreamcopy
+prtrue
+mcopystate
+miscrossserverop
+iscrossserverop
+mcopystate
+mallowundo
+nscautostring
+messageids
+nsmsgkeyarray
+srckeyarray
+nscomptr
+nsiurllistener
+urllistener
+rv
+queryinterface
+nsgetiid
+nsiurllistener
+getteraddrefs
+urllistener
+rv
+buildidsandkeyarray
+messages
+messageids
+srckeyarray
+nsimapmovecopymsgtxn
+undomsgtxn
+nsimapmovecopymsgtxn
+srcfolder
+srckeyarray
+messageids
+get
+prtrue
+ismove
+meventqueue
+urllistener
+undomsgtxn
+nserroroutofmemory
+ismove
+mflags
+msgfolderflagtrash
+undomsgtxn
+settransactiontype
+nsimessenger
+edeletemsg
+undomsgtxn
+settransactiontype
+nsimessenger
+emovemsg
+undomsgtxn
+settransactiontype
+nsimessenger
+ecopymsg
+rv
+undomsgtxn
+queryinterface
+nsgetiid
+nsimapmovecopymsgtxn
+getteraddrefs
+mcopystate
+mundomsgtxn
+nscomptr
+nsimsgdbhdr
+amessage
+amessage
+doqueryelementat
+messages
+rv
+nssucceeded
+rv
+copystreammessage
+amessage
+msgwindow
+ismove
+rv
+nsresult
+nsimapmailfolder
+getclearedoriginalop
+nsimsgofflineimapoperation
+op
+nsimsgofflineimapoperation
+originalop
+nsimsgdatabase
+originaldb
+nsimsgofflineimapoperation
+returnop
+nsnull
+nsofflineimapoperationtype
+optype
+op
+getoperation
+optype
+nsassertion
+optype
+nsimsgofflineimapoperation
+kmoveresult
+an
+offline
+move
+op
+nsxpidlcstring
+sourcefolderuri
+op
+getsourcefolderuri
+gettercopies
+sourcefolderuri
+nscomptr
+nsirdfresource
+res
+nsresult
+rv
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+krdfservicecid
+rv
+nsfailed
+rv
+rv
+rv
+rdf
+getresource
+sourcefolderuri
+getteraddrefs
+res
+nssucceeded
+rv
+nscomptr
+nsimsgfolder
+sourcefolder
+doqueryinterface
+res
+rv
+nssucceeded
+rv
+sourcefolder
+sourcefolder
+nscomptr
+nsidbfolderinfo
+folderinfo
+sourcefolder
+getdbfolderinfoanddb
+getteraddrefs
+folderinfo
+originaldb
+originaldb
+nsmsgkey
+originalkey
+op
+getmessagekey
+originalkey
+rv
+originaldb
+getofflineopforkey
+originalkey
+prfalse
+returnop
+nssucceeded
+rv
+returnop
+nsxpidlcstring
+movedestination
+nsxpidlcstring
+thisfolderuri
+geturi
+gettercopies
+thisfolderuri
+returnop
+getdestinationfolderuri
+gettercopies
+movedestination
+nscrt
+strcmp
+movedestination
+thisfolderuri
+returnop
+clearoperation
+nsimsgofflineimapoperation
+kmoveresult
+nsifaddref
+returnop
+originalop
+returnop
+rv
+nsresult
+nsimapmailfolder
+getoriginalop
+nsimsgofflineimapoperation
+op
+nsimsgofflineimapoperation
+originalop
+nsimsgdatabase
+originaldb
+nsimsgofflineimapoperation
+returnop
+nsnull
+nsxpidlcstring
+sourcefolderuri
+op
+getsourcefolderuri
+gettercopies
+sourcefolderuri
+nscomptr
+nsirdfresource
+res
+nsresult
+rv
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+krdfservicecid
+rv
+nsfailed
+rv
+rv
+rv
+rdf
+getresource
+sourcefolderuri
+getteraddrefs
+res
+nssucceeded
+rv
+nscomptr
+nsimsgfolder
+sourcefolder
+doqueryinterface
+res
+rv
+nssucceeded
+rv
+sourcefolder
+sourcefolder
+nscomptr
+nsidbfolderinfo
+folderinfo
+sourcefolder
+getdbfolderinfoanddb
+getteraddrefs
+folderinfo
+originaldb
+originaldb
+nsmsgkey
+originalkey
+op
+getmessagekey
+originalkey
+rv
+originaldb
+getofflineopforkey
+originalkey
+prfalse
+returnop
+nsifaddref
+returnop
+originalop
+returnop
+rv
+nsresult
+nsimapmailfolder
+copyofflinemsgbody
+nsimsgfolder
+srcfolder
+nsimsgdbhdr
+desthdr
+nsimsgdbhdr
+orighdr
+nscomptr
+nsioutputstream
+outputstream
+nsresult
+rv
+getofflinestoreoutputstream
+getteraddrefs
+outputstream
+nscomptr
+nsiseekablestream
+seekable
+pruint
+curstorepos
+seekable
+doqueryinterface
+outputstream
+seekable
+nsmsgkey
+messageoffset
+pruint
+messagesize
+orighdr
+getmessageoffset
+messageoffset
+orighdr
+getofflinemessagesize
+messagesize
+seekable
+tell
+curstorepos
+desthdr
+setmessageoffset
+curstorepos
+nscomptr
+nsiinputstream
+offlinestoreinputstream
+rv
+srcfolder
+getofflinestoreinputstream
+getteraddrefs
+offlinestoreinputstream
+nssucceeded
+rv
+offlinestoreinputstream
+nscomptr
+nsiseekablestream
+seekstream
+doqueryinterface
+offlinestoreinputstream
+nsassertion
+seekstream
+non
+seekable
+stream
+can
+read
+from
+offline
+msg
+seekstream
+rv
+seekstream
+seek
+nsiseekablestream
+nsseekset
+messageoffset
+nssucceeded
+rv
+print
+inputbuffersize
+inputbuffer
+prmalloc
+inputbuffersize
+print
+bytesleft
+pruint
+bytesread
+byteswritten
+bytesleft
+messagesize
+rv
+inputbuffer
+nsok
+nserroroutofmemory
+bytesleft
+nssucceeded
+rv
+rv
+offlinestoreinputstream
+read
+inputbuffer
+inputbuffersize
+bytesread
+nssucceeded
+rv
+bytesread
+rv
+outputstream
+write
+inputbuffer
+prmin
+print
+bytesread
+bytesleft
+byteswritten
+nsassertion
+print
+byteswritten
+prmin
+print
+bytesread
+bytesleft
+wrote
+out
+incorrect
+number
+of
+bytes
+bytesleft
+bytesread
+prfreeif
+inputbuffer
+outputstream
+flush
+rv
+nsresult
+nsimapmailfolder
+copymessagesoffline
+nsimsgfolder
+srcfolder
+nsisupportsarray
+messages
+prbool
+ismove
+nsimsgwindow
+msgwindow
+nsimsgcopyservicelistener
+listener
+nsensurearg
+messages
+nsresult
+rv
+nsok
+nsresult
+stopit
+nscomptr
+nsimsgdatabase
+sourcemaildb
+nscomptr
+nsidbfolderinfo
+srcdbfolderinfo
+srcfolder
+getdbfolderinfoanddb
+getteraddrefs
+srcdbfolderinfo
+getteraddrefs
+sourcemaildb
+prbool
+deletetotrash
+prfalse
+prbool
+deleteimmediately
+prfalse
+pruint
+srccount
+messages
+count
+srccount
+nscomptr
+nsiimapincomingserver
+imapserver
+rv
+getimapincomingserver
+getteraddrefs
+imapserver
+nssucceeded
+rv
+imapserver
+nsmsgimapdeletemodel
+deletemodel
+imapserver
+getdeletemodel
+deletemodel
+deletetotrash
+deletemodel
+nsmsgimapdeletemodels
+movetotrash
+deleteimmediately
+deletemodel
+nsmsgimapdeletemodels
+deletenotrash
+sourcemaildb
+nscomptr
+nsitransactionmanager
+txnmgr
+msgwindow
+msgwindow
+gettransactionmanager
+getteraddrefs
+txnmgr
+txnmgr
+txnmgr
+beginbatch
+getdatabase
+nsnull
+mdatabase
+prbool
+highwaterdeleted
+prfalse
+nsmsgkey
+fakebase
+nscomptr
+nsidbfolderinfo
+folderinfo
+rv
+mdatabase
+getdbfolderinfo
+getteraddrefs
+folderinfo
+nsensuresuccess
+rv
+rv
+nsmsgkey
+highwatermark
+nsmsgkeynone
+folderinfo
+gethighwater
+highwatermark
+fakebase
+highwatermark
+pruint
+sourcekeyindex
+stopit
+sourcekeyindex
+srccount
+sourcekeyindex
+prbool
+messagereturninghome
+prfalse
+nsxpidlcstring
+sourcefolderuri
+srcfolder
+geturi
+gettercopies
+sourcefolderuri
+nsxpidlcstring
+originalsrcfolderuri
+sourcefolderuri
+get
+originalsrcfolderuri
+adopt
+nscrt
+strdup
+sourcefolderuri
+get
+nscomptr
+nsimsgdbhdr
+message
+message
+doqueryelementat
+messages
+sourcekeyindex
+nsmsgkey
+originalkey
+message
+rv
+message
+getmessagekey
+originalkey
+nsassertion
+prfalse
+bad
+msg
+in
+src
+array
+nscomptr
+nsimsgofflineimapoperation
+sourceop
+rv
+sourcemaildb
+getofflineopforkey
+originalkey
+prtrue
+getteraddrefs
+sourceop
+nssucceeded
+rv
+sourceop
+srcfolder
+setflag
+msgfolderflagofflineevents
+nscomptr
+nsimsgdatabase
+originaldb
+nsofflineimapoperationtype
+optype
+sourceop
+getoperation
+optype
+optype
+nsimsgofflineimapoperation
+kmoveresult
+nscomptr
+nsimsgofflineimapoperation
+originalop
+rv
+getclearedoriginalop
+sourceop
+getteraddrefs
+originalop
+getteraddrefs
+originaldb
+originalop
+nsxpidlcstring
+originalstring
+nsxpidlcstring
+srcfolderuri
+srcfolder
+geturi
+gettercopies
+srcfolderuri
+sourceop
+getsourcefolderuri
+gettercopies
+originalstring
+sourceop
+getmessagekey
+originalkey
+originalsrcfolderuri
+adopt
+originalstring
+get
+nscrt
+strdup
+originalstring
+get
+ismove
+sourcemaildb
+removeofflineop
+sourceop
+sourceop
+originalop
+nscrt
+strcmp
+originalsrcfolderuri
+srcfolderuri
+messagereturninghome
+prtrue
+originaldb
+removeofflineop
+originalop
+messagereturninghome
+nsxpidlcstring
+folderuri
+geturi
+gettercopies
+folderuri
+ismove
+sourceop
+setdestinationfolderuri
+folderuri
+sourceop
+setoperation
+nsimsgofflineimapoperation
+kmsgmoved
+sourceop
+addmessagecopyoperation
+folderuri
+nsmsgkeyarray
+srckeyarray
+nscomptr
+nsiurllistener
+urllistener
+sourceop
+getoperation
+optype
+srckeyarray
+add
+originalkey
+rv
+queryinterface
+nsgetiid
+nsiurllistener
+getteraddrefs
+urllistener
+nsimapofflinetxn
+undomsgtxn
+nsimapofflinetxn
+srcfolder
+srckeyarray
+ismove
+optype
+message
+meventqueue
+urllistener
+undomsgtxn
+ismove
+undomsgtxn
+settransactiontype
+nsimessenger
+emovemsg
+undomsgtxn
+settransactiontype
+nsimessenger
+ecopymsg
+txnmgr
+txnmgr
+dotransaction
+undomsgtxn
+prbool
+hasmsgoffline
+prfalse
+srcfolder
+hasmsgoffline
+originalkey
+hasmsgoffline
+stopit
+nserrorfailure
+nscomptr
+nsimsgdbhdr
+mailhdr
+rv
+sourcemaildb
+getmsghdrforkey
+originalkey
+getteraddrefs
+mailhdr
+nssucceeded
+rv
+mailhdr
+prbool
+successfulcopy
+prfalse
+nsmsgkey
+srcdbhighwatermark
+srcdbfolderinfo
+gethighwater
+srcdbhighwatermark
+highwaterdeleted
+highwaterdeleted
+ismove
+deletetotrash
+originalkey
+srcdbhighwatermark
+nscomptr
+nsimsgdbhdr
+newmailhdr
+rv
+mdatabase
+copyhdrfromexistinghdr
+fakebase
+sourcekeyindex
+mailhdr
+prtrue
+getteraddrefs
+newmailhdr
+newmailhdr
+nsfailed
+rv
+nsassertion
+prfalse
+failed
+to
+copy
+hdr
+stopit
+rv
+nssucceeded
+stopit
+prbool
+hasmsgoffline
+prfalse
+srcfolder
+hasmsgoffline
+originalkey
+hasmsgoffline
+hasmsgoffline
+copyofflinemsgbody
+srcfolder
+newmailhdr
+mailhdr
+nscomptr
+nsimsgofflineimapoperation
+destop
+mdatabase
+getofflineopforkey
+fakebase
+sourcekeyindex
+prtrue
+getteraddrefs
+destop
+destop
+messagereturninghome
+mdatabase
+removeofflineop
+destop
+setflag
+msgfolderflagofflineevents
+destop
+setsourcefolderuri
+originalsrcfolderuri
+destop
+setmessagekey
+originalkey
+nscomptr
+nsiurllistener
+urllistener
+queryinterface
+nsgetiid
+nsiurllistener
+getteraddrefs
+urllistener
+nsmsgkeyarray
+keyarray
+keyarray
+add
+fakebase
+sourcekeyindex
+nsimapofflinetxn
+undomsgtxn
+nsimapofflinetxn
+keyarray
+ismove
+nsimsgofflineimapoperation
+kaddedheader
+newmailhdr
+meventqueue
+urllistener
+undomsgtxn
+txnmgr
+txnmgr
+dotransaction
+undomsgtxn
+stopit
+nserrorfailure
+successfulcopy
+nssucceeded
+stopit
+nsmsgkey
+msgkey
+mailhdr
+getmessagekey
+msgkey
+ismove
+successfulcopy
+nsmsgkeyarray
+srckeyarray
+nscomptr
+nsiurllistener
+urllistener
+srckeyarray
+add
+msgkey
+rv
+queryinterface
+nsgetiid
+nsiurllistener
+getteraddrefs
+urllistener
+nsofflineimapoperationtype
+optype
+nsimsgofflineimapoperation
+kdeletedmsg
+deletetotrash
+optype
+nsimsgofflineimapoperation
+kmsgmarkeddeleted
+srckeyarray
+add
+msgkey
+nsimapofflinetxn
+undomsgtxn
+nsimapofflinetxn
+srcfolder
+srckeyarray
+ismove
+optype
+mailhdr
+meventqueue
+urllistener
+undomsgtxn
+ismove
+mflags
+msgfolderflagtrash
+undomsgtxn
+settransactiontype
+nsimessenger
+edeletemsg
+undomsgtxn
+settransactiontype
+nsimessenger
+emovemsg
+undomsgtxn
+settransactiontype
+nsimessenger
+ecopymsg
+txnmgr
+txnmgr
+dotransaction
+undomsgtxn
+deletetotrash
+deleteimmediately
+sourcemaildb
+deletemessage
+msgkey
+nsnull
+prfalse
+sourcemaildb
+markimapdeleted
+msgkey
+prtrue
+nsnull
+successfulcopy
+highwaterdeleted
+prfalse
+print
+numvisiblemessages
+srcdbfolderinfo
+getnumvisiblemessages
+numvisiblemessages
+numvisiblemessages
+highwaterdeleted
+ismove
+sourcemaildb
+commit
+nsmsgdbcommittype
+klargecommit
+mdatabase
+commit
+nsmsgdbcommittype
+klargecommit
+summarychanged
+srcfolder
+summarychanged
+txnmgr
+txnmgr
+endbatch
+nscomptr
+nsisupports
+srcsupport
+doqueryinterface
+srcfolder
+oncopycompleted
+srcsupport
+rv
+nssucceeded
+rv
+ismove
+srcfolder
+notifyfolderevent
+mdeleteormovemsgcompletedatom
+rv
+nsimethodimp
+nsimapmailfolder
+copymessages
+nsimsgfolder
+srcfolder
+nsisupportsarray
+messages
+prbool
+ismove
+nsimsgwindow
+msgwindow
+nsimsgcopyservicelistener
+listener
+prbool
+isfolder
+prbool
+allowundo
+nsresult
+rv
+nsok
+nscautostring
+messageids
+nsmsgkeyarray
+srckeyarray
+nscomptr
+nsiurllistener
+urllistener
+nscomptr
+nsisupports
+srcsupport
+nscomptr
+nsisupports
+copysupport
+weareoffline
+copymessagesoffline
+srcfolder
+messages
+ismove
+msgwindow
+listener
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+srcsupport
+doqueryinterface
+srcfolder
+nscomptr
+nsimsgincomingserver
+srcserver
+nscomptr
+nsimsgincomingserver
+dstserver
+rv
+srcfolder
+getserver
+getteraddrefs
+srcserver
+nsfailed
+rv
+done
+rv
+getserver
+getteraddrefs
+dstserver
+nsfailed
+rv
+done
+nsensuretrue
+dstserver
+nserrornullpointer
+prbool
+sameserver
+rv
+dstserver
+equals
+srcserver
+sameserver
+nsfailed
+rv
+done
+sameserver
+rv
+copymessageswithstream
+srcfolder
+messages
+ismove
+prtrue
+msgwindow
+listener
+allowundo
+done
+rv
+buildidsandkeyarray
+messages
+messageids
+srckeyarray
+nsfailed
+rv
+done
+rv
+queryinterface
+nsgetiid
+nsiurllistener
+getteraddrefs
+urllistener
+rv
+initcopystate
+srcsupport
+messages
+ismove
+prtrue
+listener
+msgwindow
+allowundo
+nsfailed
+rv
+done
+mcopystate
+mcurindex
+mcopystate
+mtotalcount
+ismove
+srcfolder
+enablenotifications
+allmessagecountnotifications
+prfalse
+prtrue
+copysupport
+doqueryinterface
+mcopystate
+imapservice
+rv
+imapservice
+onlinemessagecopy
+meventqueue
+srcfolder
+messageids
+get
+prtrue
+ismove
+urllistener
+nsnull
+copysupport
+msgwindow
+mcopystate
+mallowundo
+nssucceeded
+rv
+nsimapmovecopymsgtxn
+undomsgtxn
+nsimapmovecopymsgtxn
+srcfolder
+srckeyarray
+messageids
+get
+prtrue
+ismove
+meventqueue
+urllistener
+undomsgtxn
+nserroroutofmemory
+ismove
+mflags
+msgfolderflagtrash
+undomsgtxn
+settransactiontype
+nsimessenger
+edeletemsg
+undomsgtxn
+settransactiontype
+nsimessenger
+emovemsg
+undomsgtxn
+settransactiontype
+nsimessenger
+ecopymsg
+rv
+undomsgtxn
+queryinterface
+nsgetiid
+nsimapmovecopymsgtxn
+getteraddrefs
+mcopystate
+mundomsgtxn
+nsassertion
+prfalse
+online
+copy
+failed
+done
+nsfailed
+rv
+oncopycompleted
+srcsupport
+prfalse
+ismove
+srcfolder
+enablenotifications
+allmessagecountnotifications
+prtrue
+prtrue
+notifyfolderevent
+mdeleteormovemsgfailedatom
+rv
+nsimethodimp
+nsimapmailfolder
+copyfolder
+nsimsgfolder
+srcfolder
+prbool
+ismovefolder
+nsimsgwindow
+msgwindow
+nsimsgcopyservicelistener
+listener
+nsensureargpointer
+srcfolder
+nsresult
+rv
+nsok
+ismovefolder
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nssucceeded
+rv
+nscomptr
+nsiurllistener
+urllistener
+doqueryinterface
+srcfolder
+prbool
+match
+prfalse
+prbool
+confirmed
+prfalse
+mflags
+msgfolderflagtrash
+rv
+srcfolder
+matchorchangefilterdestination
+nsnull
+prfalse
+match
+match
+srcfolder
+confirmfolderdeletionforfilter
+msgwindow
+confirmed
+confirmed
+nsok
+rv
+imapservice
+movefolder
+meventqueue
+srcfolder
+urllistener
+msgwindow
+nsnull
+nsassertion
+ismovefolder
+is
+trying
+to
+copy
+to
+different
+server
+rv
+nsimethodimp
+nsimapmailfolder
+copyfilemessage
+nsifilespec
+filespec
+nsimsgdbhdr
+msgtoreplace
+prbool
+isdraftortemplate
+nsimsgwindow
+msgwindow
+nsimsgcopyservicelistener
+listener
+nsresult
+rv
+nserrornullpointer
+nsmsgkey
+key
+xffffffff
+nscautostring
+messageid
+nscomptr
+nsiurllistener
+urllistener
+nscomptr
+nsisupportsarray
+messages
+nscomptr
+nsisupports
+srcsupport
+doqueryinterface
+filespec
+rv
+rv
+nsnewisupportsarray
+getteraddrefs
+messages
+nsfailed
+rv
+oncopycompleted
+srcsupport
+rv
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nsfailed
+rv
+oncopycompleted
+srcsupport
+rv
+rv
+queryinterface
+nsgetiid
+nsiurllistener
+getteraddrefs
+urllistener
+msgtoreplace
+rv
+msgtoreplace
+getmessagekey
+key
+nssucceeded
+rv
+messageid
+appendint
+print
+key
+rv
+initcopystate
+srcsupport
+messages
+prfalse
+isdraftortemplate
+listener
+msgwindow
+prfalse
+nsfailed
+rv
+oncopycompleted
+srcsupport
+rv
+nscomptr
+nsisupports
+copysupport
+mcopystate
+copysupport
+doqueryinterface
+mcopystate
+rv
+imapservice
+appendmessagefromfile
+meventqueue
+filespec
+messageid
+get
+prtrue
+isdraftortemplate
+urllistener
+nsnull
+copysupport
+msgwindow
+nsfailed
+rv
+oncopycompleted
+srcsupport
+rv
+rv
+nsresult
+nsimapmailfolder
+copystreammessage
+nsimsgdbhdr
+message
+nsimsgfolder
+dstfolder
+nsimsgwindow
+amsgwindow
+prbool
+ismove
+nsresult
+rv
+nserrornullpointer
+mcopystate
+rv
+nscomptr
+nsicopymessagestreamlistener
+copystreamlistener
+docreateinstance
+nscopymessagestreamlistenercontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsicopymessagelistener
+copylistener
+doqueryinterface
+dstfolder
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsimsgfolder
+srcfolder
+doqueryinterface
+mcopystate
+msrcsupport
+rv
+nsfailed
+rv
+rv
+rv
+copystreamlistener
+init
+srcfolder
+copylistener
+nsnull
+nsfailed
+rv
+rv
+nscomptr
+nsimsgdbhdr
+msghdr
+doqueryinterface
+message
+msghdr
+nserrorfailure
+nsxpidlcstring
+uri
+srcfolder
+geturiformsg
+msghdr
+gettercopies
+uri
+mcopystate
+mmsgservice
+rv
+getmessageservicefromuri
+uri
+getteraddrefs
+mcopystate
+mmsgservice
+nssucceeded
+rv
+mcopystate
+mmsgservice
+nscomptr
+nsistreamlistener
+streamlistener
+doqueryinterface
+copystreamlistener
+rv
+nsfailed
+rv
+streamlistener
+nserrornointerface
+rv
+mcopystate
+mmsgservice
+copymessage
+uri
+streamlistener
+ismove
+mcopystate
+miscrossserverop
+nsnull
+amsgwindow
+nsnull
+rv
+nsimapmailcopystate
+nsimapmailcopystate
+mismove
+prfalse
+mselectedstate
+prfalse
+miscrossserverop
+prfalse
+mcurindex
+mtotalcount
+mstreamcopy
+prfalse
+mdatabuffer
+nsnull
+mdatabuffersize
+mleftover
+mallowundo
+prfalse
+nsimapmailcopystate
+nsimapmailcopystate
+prfree
+mdatabuffer
+mmsgservice
+mmessage
+nscomptr
+nsimsgfolder
+srcfolder
+doqueryinterface
+msrcsupport
+srcfolder
+nsxpidlcstring
+uri
+srcfolder
+geturiformsg
+mmessage
+gettercopies
+uri
+mtmpfilespec
+prbool
+isopen
+prfalse
+nsfilespec
+filespec
+isopen
+mtmpfilespec
+closestream
+mtmpfilespec
+getfilespec
+filespec
+filespec
+valid
+filespec
+delete
+prfalse
+nsimplthreadsafeisupports
+nsimapmailcopystate
+nsimapmailcopystate
+nsresult
+nsimapmailfolder
+initcopystate
+nsisupports
+srcsupport
+nsisupportsarray
+messages
+prbool
+ismove
+prbool
+selectedstate
+nsimsgcopyservicelistener
+listener
+nsimsgwindow
+msgwindow
+prbool
+allowundo
+nsresult
+rv
+nsok
+srcsupport
+messages
+nserrornullpointer
+nsassertion
+mcopystate
+move
+copy
+already
+in
+progress
+mcopystate
+nserrorfailure
+nsimapmailcopystate
+copystate
+nsimapmailcopystate
+mcopystate
+doqueryinterface
+copystate
+mcopystate
+nserroroutofmemory
+srcsupport
+mcopystate
+msrcsupport
+doqueryinterface
+srcsupport
+rv
+nssucceeded
+rv
+mcopystate
+mmessages
+doqueryinterface
+messages
+rv
+nssucceeded
+rv
+rv
+messages
+count
+mcopystate
+mtotalcount
+mcopystate
+mismove
+ismove
+mcopystate
+mallowundo
+allowundo
+mcopystate
+mselectedstate
+selectedstate
+mcopystate
+mmsgwindow
+msgwindow
+listener
+mcopystate
+mlistener
+doqueryinterface
+listener
+rv
+rv
+nsresult
+nsimapmailfolder
+oncopycompleted
+nsisupports
+srcsupport
+nsresult
+rv
+mcopystate
+nsnull
+nsresult
+result
+nscomptr
+nsimsgcopyservice
+copyservice
+dogetservice
+nsmsgcopyservicecontractid
+result
+nssucceeded
+result
+copyservice
+notifycompletion
+srcsupport
+rv
+nsok
+nsimethodimp
+nsimapmailfolder
+matchname
+nsstring
+name
+prbool
+matches
+matches
+nserrornullpointer
+prbool
+isinbox
+mname
+equalsignorecase
+inbox
+isinbox
+matches
+mname
+equals
+name
+nscaseinsensitivestringcomparator
+matches
+mname
+equals
+name
+nsok
+nsresult
+nsimapmailfolder
+createbasemessageuri
+auri
+nsresult
+rv
+rv
+nscreateimapbasemessageuri
+auri
+mbasemessageuri
+rv
+nsimethodimp
+nsimapmailfolder
+getfolderurl
+afolderurl
+nsensureargpointer
+afolderurl
+nscomptr
+nsimsgfolder
+rootfolder
+nsresult
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+rooturi
+rootfolder
+geturi
+gettercopies
+rooturi
+nscautostring
+namepart
+muri
+rooturi
+length
+escapedname
+nsescape
+namepart
+get
+urlpath
+folderurl
+prmalloc
+rooturi
+length
+strlen
+escapedname
+folderurl
+nserroroutofmemory
+strcpy
+folderurl
+rooturi
+get
+strcpy
+folderurl
+rooturi
+length
+escapedname
+prfree
+escapedname
+afolderurl
+folderurl
+nsok
+nsimethodimp
+nsimapmailfolder
+getfolderneedssubscribing
+prbool
+bval
+bval
+nserrornullpointer
+bval
+mfolderneedssubscribing
+nsok
+nsimethodimp
+nsimapmailfolder
+setfolderneedssubscribing
+prbool
+bval
+mfolderneedssubscribing
+bval
+nsok
+nsmsgimapfolderacl
+nsimapmailfolder
+getfolderacl
+mfolderacl
+mfolderacl
+nsmsgimapfolderacl
+mfolderacl
+nsresult
+nsimapmailfolder
+createaclrightsstringforfolder
+prunichar
+rightsstring
+nsensureargpointer
+rightsstring
+getfolderacl
+mfolderacl
+mfolderacl
+createaclrightsstring
+rightsstring
+nserrornullpointer
+nsimethodimp
+nsimapmailfolder
+getfolderneedsacllisted
+prbool
+bval
+nsensureargpointer
+bval
+prbool
+dontneedacllisted
+prtrue
+mfolderneedsacllisted
+mflags
+msgfolderflagimapnoselect
+getisnamespace
+dontneedacllisted
+bval
+dontneedacllisted
+nsok
+nsimethodimp
+nsimapmailfolder
+setfolderneedsacllisted
+prbool
+bval
+mfolderneedsacllisted
+bval
+nsok
+nsimethodimp
+nsimapmailfolder
+getisnamespace
+prbool
+aresult
+nsensureargpointer
+aresult
+nsresult
+rv
+nsok
+mnamespace
+ifdef
+debugbienvenu
+nsassertion
+mhierarchydelimiter
+konlinehierarchyseparatorunknown
+hierarchy
+delimiter
+set
+endif
+nsxpidlcstring
+onlinename
+nsxpidlcstring
+serverkey
+getserverkey
+gettercopies
+serverkey
+getonlinename
+gettercopies
+onlinename
+prunichar
+hierarchydelimiter
+gethierarchydelimiter
+hierarchydelimiter
+nscomptr
+nsiimaphostsessionlist
+hostsession
+dogetservice
+kcimaphostsessionlist
+rv
+nssucceeded
+rv
+hostsession
+mnamespace
+nsimapnamespacelist
+getnamespaceforfolder
+serverkey
+get
+onlinename
+get
+hierarchydelimiter
+mnamespace
+nsnull
+mflags
+msgfolderflagimapotheruser
+rv
+hostsession
+getdefaultnamespaceoftypeforhost
+serverkey
+get
+kotherusersnamespace
+mnamespace
+mflags
+msgfolderflagimappublic
+rv
+hostsession
+getdefaultnamespaceoftypeforhost
+serverkey
+get
+kpublicnamespace
+mnamespace
+rv
+hostsession
+getdefaultnamespaceoftypeforhost
+serverkey
+get
+kpersonalnamespace
+mnamespace
+nsassertion
+mnamespace
+failed
+to
+get
+mnamespace
+nsimapnamespacelist
+suggesthierarchyseparatorfornamespace
+mnamespace
+hierarchydelimiter
+mfolderisnamespace
+nsimapnamespacelist
+getfolderisnamespace
+serverkey
+get
+onlinename
+get
+hierarchydelimiter
+mnamespace
+aresult
+mfolderisnamespace
+rv
+nsimethodimp
+nsimapmailfolder
+setisnamespace
+prbool
+isnamespace
+mfolderisnamespace
+isnamespace
+nsok
+nsimethodimp
+nsimapmailfolder
+resetnamespacereferences
+nsxpidlcstring
+serverkey
+nsxpidlcstring
+onlinename
+getserverkey
+gettercopies
+serverkey
+getonlinename
+gettercopies
+onlinename
+prunichar
+hierarchydelimiter
+gethierarchydelimiter
+hierarchydelimiter
+mnamespace
+nsimapnamespacelist
+getnamespaceforfolder
+serverkey
+get
+onlinename
+get
+hierarchydelimiter
+nsassertion
+mnamespace
+resetting
+mnamespace
+mfolderisnamespace
+nsimapnamespacelist
+getfolderisnamespace
+serverkey
+get
+onlinename
+get
+hierarchydelimiter
+mnamespace
+mfolderisnamespace
+prfalse
+nscomptr
+nsienumerator
+aenumerator
+getsubfolders
+getteraddrefs
+aenumerator
+aenumerator
+nsok
+nscomptr
+nsisupports
+asupport
+nsresult
+rv
+aenumerator
+first
+nssucceeded
+rv
+rv
+aenumerator
+currentitem
+getteraddrefs
+asupport
+nscomptr
+nsimsgimapmailfolder
+folder
+doqueryinterface
+asupport
+rv
+nsfailed
+rv
+rv
+folder
+resetnamespacereferences
+rv
+aenumerator
+next
+rv
+nsimethodimp
+nsimapmailfolder
+findonlinesubfolder
+targetonlinename
+nsimsgimapmailfolder
+aresultfolder
+nsresult
+rv
+nsok
+nsxpidlcstring
+onlinename
+getonlinename
+gettercopies
+onlinename
+onlinename
+equals
+targetonlinename
+queryinterface
+nsgetiid
+nsimsgimapmailfolder
+aresultfolder
+nscomptr
+nsienumerator
+aenumerator
+getsubfolders
+getteraddrefs
+aenumerator
+aenumerator
+nsok
+nscomptr
+nsisupports
+asupport
+rv
+aenumerator
+first
+nssucceeded
+rv
+rv
+aenumerator
+currentitem
+getteraddrefs
+asupport
+nscomptr
+nsimsgimapmailfolder
+folder
+doqueryinterface
+asupport
+rv
+nsfailed
+rv
+rv
+rv
+folder
+findonlinesubfolder
+targetonlinename
+aresultfolder
+aresultfolder
+rv
+rv
+aenumerator
+next
+rv
+nsimethodimp
+nsimapmailfolder
+getfolderneedsadded
+prbool
+bval
+bval
+nserrornullpointer
+bval
+mfolderneedsadded
+nsok
+nsimethodimp
+nsimapmailfolder
+setfolderneedsadded
+prbool
+bval
+mfolderneedsadded
+bval
+nsok
+nsimethodimp
+nsimapmailfolder
+getfolderverifiedonline
+prbool
+bval
+bval
+nserrornullpointer
+bval
+mverifiedasonlinefolder
+nsok
+nsimethodimp
+nsimapmailfolder
+setfolderverifiedonline
+prbool
+bval
+mverifiedasonlinefolder
+bval
+nsok
+nsimethodimp
+nsimapmailfolder
+getfolderquotacommandissued
+prbool
+acmdissued
+nsensureargpointer
+acmdissued
+acmdissued
+mfolderquotacommandissued
+nsok
+nsimethodimp
+nsimapmailfolder
+setfolderquotacommandissued
+prbool
+acmdissued
+mfolderquotacommandissued
+acmdissued
+nsok
+nsimethodimp
+nsimapmailfolder
+getfolderquotadataisvalid
+prbool
+aisvalid
+nsensureargpointer
+aisvalid
+aisvalid
+mfolderquotadataisvalid
+nsok
+nsimethodimp
+nsimapmailfolder
+setfolderquotadataisvalid
+prbool
+aisvalid
+mfolderquotadataisvalid
+aisvalid
+nsok
+nsimethodimp
+nsimapmailfolder
+getfolderquotaroot
+nsacstring
+aquotaroot
+aquotaroot
+mfolderquotaroot
+nsok
+nsimethodimp
+nsimapmailfolder
+setfolderquotaroot
+nsacstring
+aquotaroot
+mfolderquotaroot
+aquotaroot
+nsok
+nsimethodimp
+nsimapmailfolder
+getfolderquotausedkb
+pruint
+ausedkb
+nsensureargpointer
+ausedkb
+ausedkb
+mfolderquotausedkb
+nsok
+nsimethodimp
+nsimapmailfolder
+setfolderquotausedkb
+pruint
+ausedkb
+mfolderquotausedkb
+ausedkb
+nsok
+nsimethodimp
+nsimapmailfolder
+getfolderquotamaxkb
+pruint
+amaxkb
+nsensureargpointer
+amaxkb
+amaxkb
+mfolderquotamaxkb
+nsok
+nsimethodimp
+nsimapmailfolder
+setfolderquotamaxkb
+pruint
+amaxkb
+mfolderquotamaxkb
+amaxkb
+nsok
+nsimethodimp
+nsimapmailfolder
+performexpand
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+prbool
+usingsubscription
+prfalse
+nscomptr
+nsiimapincomingserver
+imapserver
+rv
+getimapincomingserver
+getteraddrefs
+imapserver
+nsfailed
+rv
+imapserver
+nserrorfailure
+rv
+imapserver
+getusingsubscription
+usingsubscription
+nssucceeded
+rv
+usingsubscription
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nssucceeded
+rv
+rv
+imapservice
+discoverchildren
+meventqueue
+monlinefoldername
+get
+nsnull
+rv
+nsimethodimp
+nsimapmailfolder
+renameclient
+nsimsgwindow
+msgwindow
+nsimsgfolder
+msgfolder
+oldname
+newname
+nsresult
+rv
+nsok
+nscomptr
+nsifilespec
+pathspec
+rv
+getpath
+getteraddrefs
+pathspec
+nsfailed
+rv
+rv
+nsfilespec
+path
+rv
+pathspec
+getfilespec
+path
+nsfailed
+rv
+rv
+nscomptr
+nsimsgimapmailfolder
+oldimapfolder
+doqueryinterface
+msgfolder
+rv
+nsfailed
+rv
+rv
+prunichar
+hierarchydelimiter
+oldimapfolder
+gethierarchydelimiter
+hierarchydelimiter
+print
+boxflags
+oldimapfolder
+getboxflags
+boxflags
+nsautostring
+newleafname
+nsautostring
+newnamestring
+newnamestring
+assignwithconversion
+newname
+newleafname
+newnamestring
+nsautostring
+parentname
+nsautostring
+foldernamestr
+print
+folderstart
+newleafname
+rfindchar
+folderstart
+newnamestring
+right
+newleafname
+newleafname
+length
+folderstart
+createdirectoryforfolder
+path
+foldernamestr
+newleafname
+nscomptr
+nsimsgdatabase
+maildbfactory
+nscomptr
+nsimsgfolder
+child
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+rv
+nscomponentmanager
+createinstance
+kcmaildb
+nsnull
+nsgetiid
+nsimsgdatabase
+getteraddrefs
+maildbfactory
+nssucceeded
+rv
+maildbfactory
+nscomptr
+nsimsgdatabase
+unuseddb
+nscomptr
+nsifilespec
+dbfilespec
+nscautostring
+proposeddbname
+proposeddbname
+assignwithconversion
+newleafname
+rv
+createfilespecfordb
+proposeddbname
+get
+path
+getteraddrefs
+dbfilespec
+nsensuresuccess
+rv
+rv
+rv
+maildbfactory
+open
+dbfilespec
+prtrue
+prtrue
+nsimsgdatabase
+getteraddrefs
+unuseddb
+nssucceeded
+rv
+unuseddb
+nscomptr
+nsidbfolderinfo
+folderinfo
+rv
+unuseddb
+getdbfolderinfo
+getteraddrefs
+folderinfo
+rv
+addsubfolderwithpath
+foldernamestr
+dbfilespec
+getteraddrefs
+child
+child
+nsfailed
+rv
+rv
+nsxpidlstring
+unicodename
+rv
+createunicodestringfromutf
+proposeddbname
+get
+gettercopies
+unicodename
+nssucceeded
+rv
+unicodename
+child
+setname
+unicodename
+imapfolder
+doqueryinterface
+child
+imapfolder
+nscautostring
+onlinename
+monlinefoldername
+onlinename
+isempty
+onlinename
+append
+hierarchydelimiter
+onlinename
+appendwithconversion
+foldernamestr
+imapfolder
+setverifiedasonlinefolder
+prtrue
+imapfolder
+setonlinename
+onlinename
+get
+imapfolder
+sethierarchydelimiter
+hierarchydelimiter
+imapfolder
+setboxflags
+boxflags
+folderinfo
+nsautostring
+unicodeonlinename
+unicodeonlinename
+assignwithconversion
+onlinename
+get
+folderinfo
+setmailboxname
+unicodeonlinename
+prbool
+changed
+prfalse
+msgfolder
+matchorchangefilterdestination
+child
+prfalse
+changed
+changed
+msgfolder
+alertfilterchanged
+msgwindow
+unuseddb
+setsummaryvalid
+prtrue
+unuseddb
+commit
+nsmsgdbcommittype
+klargecommit
+unuseddb
+close
+prtrue
+child
+renamesubfolders
+msgwindow
+msgfolder
+nscomptr
+nsimsgfolder
+msgparent
+msgfolder
+getparentmsgfolder
+getteraddrefs
+msgparent
+msgfolder
+setparent
+nsnull
+msgparent
+propagatedelete
+msgfolder
+prfalse
+nsnull
+nscomptr
+nsimsgimapmailfolder
+oldimapfolder
+doqueryinterface
+msgfolder
+oldimapfolder
+oldimapfolder
+setverifiedasonlinefolder
+prfalse
+nscomptr
+nsisupports
+childsupports
+doqueryinterface
+child
+nscomptr
+nsisupports
+parentsupports
+rv
+queryinterface
+nsgetiid
+nsisupports
+getteraddrefs
+parentsupports
+childsupports
+nssucceeded
+rv
+notifyitemadded
+parentsupports
+childsupports
+folderview
+rv
+nsimethodimp
+nsimapmailfolder
+renamesubfolders
+nsimsgwindow
+msgwindow
+nsimsgfolder
+oldfolder
+nsresult
+rv
+nsok
+minitialized
+prtrue
+nscomptr
+nsienumerator
+aenumerator
+oldfolder
+getsubfolders
+getteraddrefs
+aenumerator
+nscomptr
+nsisupports
+asupport
+rv
+aenumerator
+first
+nssucceeded
+rv
+rv
+aenumerator
+currentitem
+getteraddrefs
+asupport
+nscomptr
+nsimsgfolder
+msgfolder
+doqueryinterface
+asupport
+nscomptr
+nsimsgimapmailfolder
+folder
+doqueryinterface
+msgfolder
+rv
+nsfailed
+rv
+rv
+prunichar
+hierarchydelimiter
+folder
+gethierarchydelimiter
+hierarchydelimiter
+print
+boxflags
+folder
+getboxflags
+boxflags
+prbool
+verified
+folder
+getverifiedasonlinefolder
+verified
+nscomptr
+nsifilespec
+oldpathspec
+rv
+msgfolder
+getpath
+getteraddrefs
+oldpathspec
+nsfailed
+rv
+rv
+nsfilespec
+oldpath
+rv
+oldpathspec
+getfilespec
+oldpath
+nsfailed
+rv
+rv
+nscomptr
+nsifilespec
+newparentpathspec
+rv
+getpath
+getteraddrefs
+newparentpathspec
+nsfailed
+rv
+rv
+nsfilespec
+newparentpath
+rv
+newparentpathspec
+getfilespec
+newparentpath
+nsfailed
+rv
+rv
+rv
+adddirectoryseparator
+newparentpath
+newparentpath
+oldpath
+getleafname
+nscstring
+newpathstr
+newparentpath
+getnativepathcstring
+nscomptr
+nsifilespec
+newpathspec
+rv
+nsnewfilespec
+getteraddrefs
+newpathspec
+nsfailed
+rv
+rv
+rv
+newpathspec
+setnativepath
+newpathstr
+get
+nsfilespec
+newpath
+rv
+newpathspec
+getfilespec
+newpath
+nsfailed
+rv
+rv
+nscomptr
+nsifilespec
+dbfilespec
+nsnewfilespecwithspec
+newpath
+getteraddrefs
+dbfilespec
+nscomptr
+nsimsgfolder
+child
+nsxpidlstring
+foldername
+rv
+msgfolder
+getname
+gettercopies
+foldername
+foldername
+isempty
+nsfailed
+rv
+rv
+nsxpidlcstring
+utfleafname
+utfleafname
+adopt
+createutfconvertedstringfromunicode
+foldername
+get
+nsautostring
+unicodeleafname
+unicodeleafname
+assignwithconversion
+utfleafname
+get
+rv
+addsubfolderwithpath
+unicodeleafname
+dbfilespec
+getteraddrefs
+child
+child
+nsfailed
+rv
+rv
+child
+setname
+foldername
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+doqueryinterface
+child
+nsxpidlcstring
+onlinename
+getonlinename
+gettercopies
+onlinename
+nscautostring
+onlinecname
+onlinename
+onlinecname
+append
+hierarchydelimiter
+onlinecname
+append
+utfleafname
+get
+imapfolder
+imapfolder
+setverifiedasonlinefolder
+verified
+imapfolder
+setonlinename
+onlinecname
+get
+imapfolder
+sethierarchydelimiter
+hierarchydelimiter
+imapfolder
+setboxflags
+boxflags
+prbool
+changed
+prfalse
+msgfolder
+matchorchangefilterdestination
+child
+prfalse
+changed
+changed
+msgfolder
+alertfilterchanged
+msgwindow
+child
+renamesubfolders
+msgwindow
+msgfolder
+rv
+aenumerator
+next
+rv
+nsimethodimp
+nsimapmailfolder
+iscommandenabled
+command
+prbool
+result
+nsensureargpointer
+result
+nsensureargpointer
+command
+result
+prtrue
+weareoffline
+nscrt
+strcmp
+command
+cmdrenamefolder
+nscrt
+strcmp
+command
+cmdcompactfolder
+nscrt
+strcmp
+command
+cmddelete
+nscrt
+strcmp
+command
+buttondelete
+result
+prfalse
+nsok
+nsimethodimp
+nsimapmailfolder
+getcanfilemessages
+prbool
+acanfilemessages
+nsresult
+rv
+acanfilemessages
+prtrue
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserver
+getteraddrefs
+server
+nssucceeded
+rv
+server
+rv
+server
+getcanfilemessagesonserver
+acanfilemessages
+acanfilemessages
+rv
+nsmsgfolder
+getcanfilemessages
+acanfilemessages
+acanfilemessages
+prbool
+noselect
+getflag
+msgfolderflagimapnoselect
+noselect
+acanfilemessages
+noselect
+prfalse
+getfolderacl
+getcaniinsertinfolder
+nsok
+rv
+nsimethodimp
+nsimapmailfolder
+getcandeletemessages
+prbool
+acandeletemessages
+nsensureargpointer
+acandeletemessages
+acandeletemessages
+getfolderacl
+getcanideleteinfolder
+nsok
+nsimethodimp
+nsimapmailfolder
+getperformingbiff
+prbool
+aperformingbiff
+aperformingbiff
+nserrornullpointer
+aperformingbiff
+mperformingbiff
+nsok
+nsimethodimp
+nsimapmailfolder
+setperformingbiff
+prbool
+aperformingbiff
+mperformingbiff
+aperformingbiff
+nsok
+nsimethodimp
+nsimapmailfolder
+setfilterlist
+nsimsgfilterlist
+amsgfilterlist
+mfilterlist
+amsgfilterlist
+nsmsgfolder
+setfilterlist
+amsgfilterlist
+nsresult
+nsimapmailfolder
+getmovecoalescer
+mmovecoalescer
+mmovecoalescer
+nsimapmovecoalescer
+nsnull
+nsensuretrue
+mmovecoalescer
+nserroroutofmemory
+mmovecoalescer
+addref
+nsok
+nsresult
+nsimapmailfolder
+spamfilterclassifymessage
+auri
+nsimsgwindow
+amsgwindow
+nsijunkmailplugin
+ajunkmailplugin
+mnumfilterclassifyrequests
+ajunkmailplugin
+classifymessage
+auri
+amsgwindow
+nsresult
+nsimapmailfolder
+spamfilterclassifymessages
+auriarray
+pruint
+auricount
+nsimsgwindow
+amsgwindow
+nsijunkmailplugin
+ajunkmailplugin
+mnumfilterclassifyrequests
+auricount
+ajunkmailplugin
+classifymessages
+auricount
+auriarray
+amsgwindow
+nsimethodimp
+nsimapmailfolder
+storecustomkeywords
+nsimsgwindow
+amsgwindow
+aflagstoadd
+aflagstosubtract
+nsmsgkey
+akeystostore
+print
+anumkeys
+nsiuri
+retval
+nsresult
+rv
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscautostring
+msgids
+allocateuidstringfromkeys
+akeystostore
+anumkeys
+msgids
+imapservice
+storecustomkeywords
+meventqueue
+amsgwindow
+aflagstoadd
+aflagstosubtract
+msgids
+get
+retval
+nsimethodimp
+nsimapmailfolder
+onmessageclassified
+amsguri
+nsmsgjunkstatus
+aclassification
+nsxpidlcstring
+spamfolderuri
+nscomptr
+nsimsgincomingserver
+server
+nsresult
+rv
+getserver
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgdbhdr
+msghdr
+rv
+getmsgdbhdrfromuri
+amsguri
+getteraddrefs
+msghdr
+nsensuresuccess
+rv
+rv
+nsmsgkey
+msgkey
+rv
+msghdr
+getmessagekey
+msgkey
+nsensuresuccess
+rv
+rv
+mdatabase
+setstringproperty
+msgkey
+junkscore
+aclassification
+nsijunkmailplugin
+junk
+mdatabase
+setstringproperty
+msgkey
+junkscoreorigin
+plugin
+getmovecoalescer
+mmovecoalescer
+nsmsgkeyarray
+keystoclassify
+mmovecoalescer
+getkeybucket
+aclassification
+nsijunkmailplugin
+junk
+keystoclassify
+keystoclassify
+add
+msgkey
+aclassification
+nsijunkmailplugin
+junk
+nscomptr
+nsispamsettings
+spamsettings
+rv
+getserver
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+rv
+server
+getspamsettings
+getteraddrefs
+spamsettings
+nsensuresuccess
+rv
+rv
+prbool
+willmovemessage
+prfalse
+mflags
+msgfolderflagjunk
+mflags
+msgfolderflagtrash
+prbool
+moveonspam
+spamsettings
+getmoveonspam
+moveonspam
+moveonspam
+rv
+spamsettings
+getspamfolderuri
+gettercopies
+spamfolderuri
+nsensuresuccess
+rv
+rv
+spamfolderuri
+isempty
+nscomptr
+nsimsgfolder
+folder
+rv
+getexistingfolder
+spamfolderuri
+getteraddrefs
+folder
+nssucceeded
+rv
+folder
+rv
+folder
+setflag
+msgfolderflagjunk
+nsensuresuccess
+rv
+rv
+nssucceeded
+getmovecoalescer
+mmovecoalescer
+addmove
+folder
+msgkey
+willmovemessage
+prtrue
+rv
+getorcreatefolder
+spamfolderuri
+nsnull
+nsassertion
+nssucceeded
+rv
+getorcreatefolder
+failed
+rv
+spamsettings
+logjunkhit
+msghdr
+willmovemessage
+nsensuresuccess
+rv
+rv
+mnumfilterclassifyrequests
+mmovecoalescer
+nsmsgkeyarray
+junkkeystoclassify
+mmovecoalescer
+getkeybucket
+nsmsgkeyarray
+nonjunkkeystoclassify
+mmovecoalescer
+getkeybucket
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+junkkeystoclassify
+junkkeystoclassify
+getsize
+storecustomkeywords
+mmovecoalescer
+getmsgwindow
+junk
+junkkeystoclassify
+getarray
+junkkeystoclassify
+getsize
+nsnull
+nonjunkkeystoclassify
+nonjunkkeystoclassify
+getsize
+storecustomkeywords
+mmovecoalescer
+getmsgwindow
+nonjunk
+nonjunkkeystoclassify
+getarray
+nonjunkkeystoclassify
+getsize
+nsnull
+mmovecoalescer
+playbackmoves
+nsok
+nsimethodimp
+nsimapmailfolder
+getshoulddownloadallheaders
+prbool
+aresult
+aresult
+prfalse
+mflags
+msgfolderflaginbox
+nscomptr
+nsimsgfilterlist
+filterlist
+nsresult
+rv
+getfilterlist
+nsnull
+getteraddrefs
+filterlist
+nsensuresuccess
+rv
+rv
+rv
+filterlist
+getshoulddownloadallheaders
+aresult
+aresult
+rv
+nscomptr
+nsimsgfilterplugin
+filterplugin
+nscomptr
+nsimsgincomingserver
+server
+nssucceeded
+getserver
+getteraddrefs
+server
+server
+getspamfilterplugin
+getteraddrefs
+filterplugin
+filterplugin
+filterplugin
+getshoulddownloadallheaders
+aresult
+nsok
+nsimapmailfolder
+gettrashfoldername
+nsastring
+afoldername
+nscomptr
+nsimsgincomingserver
+server
+nscomptr
+nsiimapincomingserver
+imapserver
+nssucceeded
+getserver
+getteraddrefs
+server
+server
+imapserver
+doqueryinterface
+server
+imapserver
+nsxpidlstring
+trashfoldername
+nssucceeded
+imapserver
+gettrashfoldername
+gettercopies
+trashfoldername
+afoldername
+trashfoldername nsresult
\ No newline at end of file
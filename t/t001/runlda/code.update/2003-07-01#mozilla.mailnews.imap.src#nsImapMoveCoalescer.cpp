@@ -0,0 +1,252 @@
+msgcore
+nsmsgimapcid
+nsimapmailfolder
+nsimapmovecoalescer
+nsmsgkeyarray
+nsimapservice
+nsimsgcopyservice
+nsmsgbasecid
+nsimsgfolder
+nsimplisupports
+nsimapmovecoalescer
+nsisupports
+nsimapmovecoalescer
+nsimapmovecoalescer
+nsimsgfolder
+sourcefolder
+nsimsgwindow
+msgwindow
+msourcefolder
+sourcefolder
+mmsgwindow
+msgwindow
+nsimapmovecoalescer
+nsimapmovecoalescer
+print
+msourcekeyarrays
+count
+nsmsgkeyarray
+keys
+nsmsgkeyarray
+msourcekeyarrays
+elementat
+keys
+print
+index
+index
+mkeybuckets
+count
+index
+nsmsgkeyarray
+keys
+nsmsgkeyarray
+mkeybuckets
+elementat
+index
+keys
+nsresult
+nsimapmovecoalescer
+addmove
+nsimsgfolder
+folder
+nsmsgkey
+key
+mdestfolders
+nsnewisupportsarray
+getteraddrefs
+mdestfolders
+mdestfolders
+nscomptr
+nsisupports
+supports
+doqueryinterface
+folder
+supports
+print
+folderindex
+mdestfolders
+indexof
+supports
+nsmsgkeyarray
+keystoadd
+nsnull
+folderindex
+keystoadd
+nsmsgkeyarray
+msourcekeyarrays
+elementat
+folderindex
+mdestfolders
+appendelement
+supports
+keystoadd
+nsmsgkeyarray
+keystoadd
+nserroroutofmemory
+msourcekeyarrays
+appendelement
+keystoadd
+keystoadd
+keystoadd
+add
+key
+nsok
+nserrornullpointer
+nserroroutofmemory
+nsresult
+nsimapmovecoalescer
+playbackmoves
+pruint
+numfolders
+nsresult
+rv
+nsok
+mdestfolders
+nsok
+mdestfolders
+count
+numfolders
+pruint
+numfolders
+nscomptr
+nsimsgfolder
+destfolder
+doqueryelementat
+mdestfolders
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nssucceeded
+rv
+nsmsgkeyarray
+keystoadd
+nsmsgkeyarray
+msourcekeyarrays
+elementat
+keystoadd
+nscautostring
+messageids
+nsimapmailfolder
+allocateuidstringfromkeys
+keystoadd
+getarray
+keystoadd
+getsize
+messageids
+print
+numkeystoadd
+keystoadd
+getsize
+numkeystoadd
+destfolder
+setnumnewmessages
+numkeystoadd
+destfolder
+sethasnewmessages
+prtrue
+print
+oldnewmessagecount
+msourcefolder
+getnumnewmessages
+prfalse
+oldnewmessagecount
+oldnewmessagecount
+numkeystoadd
+oldnewmessagecount
+numkeystoadd
+oldnewmessagecount
+msourcefolder
+setnumnewmessages
+oldnewmessagecount
+nscomptr
+nsisupports
+sourcesupports
+doqueryinterface
+msourcefolder
+rv
+nscomptr
+nsiurllistener
+urllistener
+doqueryinterface
+sourcesupports
+nscomptr
+nsisupportsarray
+messages
+nsnewisupportsarray
+getteraddrefs
+messages
+pruint
+keyindex
+keyindex
+keystoadd
+getsize
+keyindex
+nscomptr
+nsimsgdbhdr
+mailhdr
+nsnull
+rv
+msourcefolder
+getmessageheader
+keystoadd
+elementat
+keyindex
+getteraddrefs
+mailhdr
+nssucceeded
+rv
+mailhdr
+nscomptr
+nsisupports
+isupports
+doqueryinterface
+mailhdr
+messages
+appendelement
+isupports
+keystoadd
+removeall
+nscomptr
+nsimsgcopyservice
+copysvc
+dogetservice
+nsmsgcopyservicecontractid
+copysvc
+rv
+copysvc
+copymessages
+msourcefolder
+messages
+destfolder
+prtrue
+nsnull
+mmsgwindow
+prfalse
+rv
+nsmsgkeyarray
+nsimapmovecoalescer
+getkeybucket
+print
+keyarrayindex
+mkeybuckets
+count
+keyarrayindex
+print
+keyarrayindex
+mkeybuckets
+count
+nsmsgkeyarray
+keystoadd
+nsmsgkeyarray
+keystoadd
+nsnull
+mkeybuckets
+appendelement
+keystoadd
+nsmsgkeyarray
+mkeybuckets
+safeelementat
+keyarrayindex nsresult
\ No newline at end of file
@@ -0,0 +1,11840 @@
+define
+doingpseudomailboxes
+ifdef
+mozlogging
+define
+forceprlog
+endif
+msgcore
+nsiservicemanager
+nsicharsetconvertermanager
+nsistringbundle
+nsmsgimapcid
+nsieventqueueservice
+nsisupportsobsolete
+nsimapcore
+nsimapprotocol
+nsimsgmailnewsurl
+nscore
+nsimapproxyevent
+nsimaphostsessionlist
+nsimapbodyshell
+nsimapmailfolder
+nsimapserverresponseparser
+nspr
+plbase
+nsiimapservice
+nsisockettransportservice
+nsistreamlistenertee
+nsnetutil
+nsxpidlstring
+nsreadableutils
+nsipipe
+nsimsgfolder
+nsimapstringbundle
+nsicopymsgstreamlistener
+nstextformatter
+nsautolock
+nsidnsservice
+nsimsghdr
+nsmsgutfutils
+nsicacheentrydescriptor
+nsicachesession
+nsiprompt
+nsidocshellloadinfo
+nsidomwindowinternal
+nsimessengerwindowservice
+nsiwindowmediator
+nsiwindowwatcher
+nscomptr
+nsmimetypes
+prlogmoduleinfo
+imap
+nsistreamlistener
+nsimsgincomingserver
+nsiimapincomingserver
+nsiprefbranch
+nsiprefservice
+nsipreflocalizedstring
+nsimaputils
+nsiproxyobjectmanager
+nsistreamconverterservice
+nsiproxyinfo
+nseventqueueutils
+nsihashalgorithm
+endif
+define
+onesecond
+pruint
+nsdefinecid
+ksockettransportservicecid
+nssockettransportservicecid
+nsdefinecid
+keventqueueservicecid
+nseventqueueservicecid
+nsdefinecid
+kcharsetconvertermanagercid
+nsicharsetconvertermanagercid
+nsdefinecid
+kproxyobjectmanagercid
+nsproxyeventmanagercid
+nsdefinecid
+kstreamlistenerteecid
+nsstreamlistenerteecid
+define
+outputbuffersize
+define
+imapenvheaders
+from
+to
+cc
+subject
+date
+message
+id
+define
+imapdbheaders
+priority
+priority
+references
+newsgroups
+in
+reply
+to
+define
+imapenvanddbheaders
+imapenvheaders
+imapdbheaders
+printervaltime
+kimapsleeptime
+prmillisecondstointerval
+print
+gpromotenooptocheckcount
+nsxpidlstring
+nsimapprotocol
+macceptlanguages
+print
+kflagchangesbeforecheck
+print
+kmaxsecondsbeforecheck
+nsimplthreadsafeisupports
+nsmsgimaphdrxferinfo
+nsiimapheaderxferinfo
+print
+knumhdrstoxfer
+nsmsgimaphdrxferinfo
+nsmsgimaphdrxferinfo
+nsnewisupportsarray
+getteraddrefs
+mhdrinfos
+mnextfreehdrinfo
+nsmsgimaphdrxferinfo
+nsmsgimaphdrxferinfo
+nsimethodimp
+nsmsgimaphdrxferinfo
+getnumheaders
+pruint
+anumheaders
+anumheaders
+mnextfreehdrinfo
+nsok
+nsimethodimp
+nsmsgimaphdrxferinfo
+getheader
+print
+hdrindex
+nsiimapheaderinfo
+aresult
+mhdrinfos
+mhdrinfos
+queryelementat
+hdrindex
+nsgetiid
+nsiimapheaderinfo
+aresult
+nserroroutofmemory
+print
+kinitlinehdrcachesize
+nsresult
+nsmsgimaphdrxferinfo
+getfreeheaderinfo
+nsiimapheaderinfo
+aresult
+mnextfreehdrinfo
+knumhdrstoxfer
+aresult
+nsnull
+nserrornullpointer
+nsresult
+rv
+mhdrinfos
+queryelementat
+mnextfreehdrinfo
+nsgetiid
+nsiimapheaderinfo
+aresult
+aresult
+mnextfreehdrinfo
+knumhdrstoxfer
+nsmsgimaplinedownloadcache
+linecache
+nsmsgimaplinedownloadcache
+linecache
+nserroroutofmemory
+rv
+linecache
+growbuffer
+kinitlinehdrcachesize
+nsaddref
+aresult
+linecache
+mhdrinfos
+appendelement
+linecache
+rv
+nsmsgimaphdrxferinfo
+startnewhdr
+nsiimapheaderinfo
+newhdrinfo
+getfreeheaderinfo
+newhdrinfo
+nsmsgimaphdrxferinfo
+finishcurrenthdr
+nsmsgimaphdrxferinfo
+resetall
+nscomptr
+nsiimapheaderinfo
+hdrinfo
+print
+knumhdrstoxfer
+nsresult
+rv
+getheader
+getteraddrefs
+hdrinfo
+nssucceeded
+rv
+hdrinfo
+hdrinfo
+resetcache
+mnextfreehdrinfo
+nsmsgimaphdrxferinfo
+releaseall
+mhdrinfos
+clear
+mnextfreehdrinfo
+nsimplthreadsafeisupports
+nsmsgimaplinedownloadcache
+nsiimapheaderinfo
+nsmsgimaplinedownloadcache
+nsmsgimaplinedownloadcache
+flineinfo
+msglineinfo
+prcalloc
+msglineinfo
+flineinfo
+uidofmessage
+nsmsgkeynone
+mmsgsize
+nsmsgimaplinedownloadcache
+nsmsgimaplinedownloadcache
+prfree
+flineinfo
+pruint
+nsmsgimaplinedownloadcache
+currentuid
+flineinfo
+uidofmessage
+pruint
+nsmsgimaplinedownloadcache
+spaceavailable
+kdownloadcachesize
+mbufferpos
+msglineinfo
+nsmsgimaplinedownloadcache
+getcurrentlineinfo
+appendbuffer
+flineinfo
+adoptedmessageline
+getbuffer
+flineinfo
+nsimethodimp
+nsmsgimaplinedownloadcache
+resetcache
+resetwritepos
+nsok
+prbool
+nsmsgimaplinedownloadcache
+cacheempty
+mbufferpos
+nsimethodimp
+nsmsgimaplinedownloadcache
+cacheline
+line
+pruint
+uid
+nsassertion
+plstrlen
+line
+spaceavailable
+oops
+line
+length
+greater
+than
+space
+available
+flineinfo
+uidofmessage
+uid
+appendstring
+line
+nsok
+nsimethodimp
+nsmsgimaplinedownloadcache
+getmsguid
+nsmsgkey
+amsguid
+amsguid
+flineinfo
+uidofmessage
+nsok
+nsimethodimp
+nsmsgimaplinedownloadcache
+getmsgsize
+print
+amsgsize
+amsgsize
+mmsgsize
+nsok
+nsimethodimp
+nsmsgimaplinedownloadcache
+setmsgsize
+print
+amsgsize
+mmsgsize
+amsgsize
+nsok
+nsimethodimp
+nsmsgimaplinedownloadcache
+getmsghdrs
+amsghdrs
+appendbuffer
+amsghdrs
+getbuffer
+nsok
+nsimplthreadsafeaddref
+nsimapprotocol
+nsimplthreadsaferelease
+nsimapprotocol
+nsinterfacemapbegin
+nsimapprotocol
+nsinterfacemapentryambiguous
+nsisupports
+nsiimapprotocol
+nsinterfacemapentry
+nsirunnable
+nsinterfacemapentry
+nsiimapprotocol
+nsinterfacemapentry
+nsistreamlistener
+nsinterfacemapentry
+nsirequestobserver
+nsinterfacemapendthreadsafe
+print
+gtoofasttime
+print
+gidealtime
+print
+gchunkaddsize
+print
+gchunksize
+print
+gchunkthreshold
+prbool
+gfetchbychunks
+prtrue
+print
+gmaxchunksize
+prbool
+ginitialized
+prfalse
+prbool
+ghideunusednamespaces
+prtrue
+prbool
+ghideotherusersfromlist
+prfalse
+prbool
+guseenvelopecmd
+prfalse
+nsresult
+nsimapprotocol
+globalinitialization
+ginitialized
+prtrue
+nsresult
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+prefbranch
+getintpref
+mail
+imap
+chunkfast
+gtoofasttime
+prefbranch
+getintpref
+mail
+imap
+chunkideal
+gidealtime
+prefbranch
+getintpref
+mail
+imap
+chunkadd
+gchunkaddsize
+prefbranch
+getintpref
+mail
+imap
+chunksize
+gchunksize
+prefbranch
+getintpref
+mail
+imap
+minchunksizethreshold
+gchunkthreshold
+prefbranch
+getintpref
+mail
+imap
+maxchunksize
+gmaxchunksize
+prefbranch
+getboolpref
+mail
+imap
+hideotherusers
+ghideotherusersfromlist
+prefbranch
+getboolpref
+mail
+imap
+hideunusednamespaces
+ghideunusednamespaces
+prefbranch
+getintpref
+mail
+imap
+noopcheckcount
+gpromotenooptocheckcount
+prefbranch
+getboolpref
+mail
+imap
+useenvelopecmd
+guseenvelopecmd
+nscomptr
+nsipreflocalizedstring
+prefstring
+prefbranch
+getcomplexvalue
+intl
+acceptlanguages
+nsgetiid
+nsipreflocalizedstring
+getteraddrefs
+prefstring
+prefstring
+prefstring
+tostring
+gettercopies
+macceptlanguages
+nsok
+nsimapprotocol
+nsimapprotocol
+mparser
+mflags
+murlinprogress
+prfalse
+msocketisopen
+prfalse
+mignoreexpunges
+prfalse
+mgotfeeventcompletion
+prfalse
+musesecauth
+prfalse
+mconnectionstatus
+mhostsessionlist
+nsnull
+mflagstate
+nsnull
+mfetchbodyidlist
+nsnull
+ginitialized
+globalinitialization
+mthread
+nsnull
+mdataavailablemonitor
+nsnull
+murlreadytorunmonitor
+nsnull
+mpseudointerruptmonitor
+nsnull
+mdatamembermonitor
+nsnull
+mthreaddeathmonitor
+nsnull
+meventcompletionmonitor
+nsnull
+mwaitforbodyidsmonitor
+nsnull
+mfetchmsglistmonitor
+nsnull
+mfetchbodylistmonitor
+nsnull
+mimapthreadisrunning
+prfalse
+mcurrentservercommandtagnumber
+mactive
+prfalse
+mfolderneedssubscribing
+prfalse
+mfolderneedsaclrefreshed
+prfalse
+mthreadshoulddie
+prfalse
+mpseudointerrupted
+prfalse
+mnexturlreadytorun
+prfalse
+mtrackingtime
+prfalse
+llil
+mstarttime
+llil
+mendtime
+llil
+mlastactivetime
+llil
+mlastprogresstime
+resetprogressinfo
+mtoofasttime
+midealtime
+mchunkaddsize
+mchunkstartsize
+mmaxchunksize
+mfetchbychunks
+prtrue
+mchunksize
+mchunkthreshold
+mfromheaderseen
+prfalse
+mcloseneededbeforeselect
+prfalse
+mneednoop
+prfalse
+mnoopcount
+mfetchmsglistisnew
+prfalse
+mfetchbodylistisnew
+prfalse
+mflagchangecount
+mlastchecktime
+prnow
+mcheckfornewmaildownloadsheaders
+prtrue
+mhierarchynamestate
+knooperationinprogress
+mdiscoverystatus
+econtinue
+moverrideurlconnectioninfo
+prfalse
+mdataoutputbuf
+prcalloc
+outputbuffersize
+mallocatedsize
+outputbuffersize
+mpumpsuspended
+prfalse
+minputstreambuffer
+nsmsglinestreambuffer
+outputbuffersize
+prtrue
+prfalse
+mcurrentbiffstate
+nsimsgfolder
+nsmsgbiffstateunknown
+mhostname
+truncate
+musername
+nsnull
+mserverkey
+nsnull
+mprogressstringid
+mhdrdownloadcache
+addref
+mdownloadlinecache
+addref
+mautosubscribe
+prtrue
+mautounsubscribe
+prtrue
+mautosubscribeonopen
+prtrue
+mdeletablechildren
+nsnull
+configure
+gtoofasttime
+gidealtime
+gchunkaddsize
+gchunksize
+gchunkthreshold
+gfetchbychunks
+gmaxchunksize
+imap
+imap
+prnewlogmodule
+imap
+nsresult
+nsimapprotocol
+configure
+print
+toofasttime
+print
+idealtime
+print
+chunkaddsize
+print
+chunksize
+print
+chunkthreshold
+prbool
+fetchbychunks
+print
+maxchunksize
+mtoofasttime
+toofasttime
+midealtime
+idealtime
+mchunkaddsize
+chunkaddsize
+mchunkstartsize
+mchunksize
+chunksize
+mchunkthreshold
+chunkthreshold
+mfetchbychunks
+fetchbychunks
+mmaxchunksize
+maxchunksize
+nsok
+nsresult
+nsimapprotocol
+initialize
+nsiimaphostsessionlist
+ahostsessionlist
+nsieventqueue
+asinkeventqueue
+nsprecondition
+asinkeventqueue
+ahostsessionlist
+oops
+trying
+to
+initalize
+with
+sink
+event
+queue
+asinkeventqueue
+ahostsessionlist
+nserrornullpointer
+nsresult
+rv
+mdownloadlinecache
+growbuffer
+kdownloadcachesize
+nsensuresuccess
+rv
+rv
+mflagstate
+nsimapflaganduidstate
+kimapflaganduidstatesize
+prfalse
+mflagstate
+nserroroutofmemory
+nsaddref
+mflagstate
+msinkeventqueue
+asinkeventqueue
+mhostsessionlist
+ahostsessionlist
+mparser
+sethostsessionlist
+ahostsessionlist
+mparser
+setflagstate
+mflagstate
+mthread
+nsnull
+mdataavailablemonitor
+prnewmonitor
+murlreadytorunmonitor
+prnewmonitor
+mpseudointerruptmonitor
+prnewmonitor
+mdatamembermonitor
+prnewmonitor
+mthreaddeathmonitor
+prnewmonitor
+meventcompletionmonitor
+prnewmonitor
+mwaitforbodyidsmonitor
+prnewmonitor
+mfetchmsglistmonitor
+prnewmonitor
+mfetchbodylistmonitor
+prnewmonitor
+nsresult
+rv
+nsnewthread
+getteraddrefs
+mithread
+nsfailed
+rv
+nsassertion
+mithread
+unable
+to
+create
+imap
+thread
+rv
+mithread
+getprthread
+mthread
+nsok
+nsimapprotocol
+nsimapprotocol
+prfree
+musername
+prfree
+mserverkey
+prfree
+mfetchbodyidlist
+nsifrelease
+mflagstate
+prfree
+mdataoutputbuf
+minputstreambuffer
+nsassertion
+mimapthreadisrunning
+prfalse
+oops
+thread
+is
+still
+running
+mdataavailablemonitor
+prdestroymonitor
+mdataavailablemonitor
+mdataavailablemonitor
+nsnull
+murlreadytorunmonitor
+prdestroymonitor
+murlreadytorunmonitor
+murlreadytorunmonitor
+nsnull
+mpseudointerruptmonitor
+prdestroymonitor
+mpseudointerruptmonitor
+mpseudointerruptmonitor
+nsnull
+mdatamembermonitor
+prdestroymonitor
+mdatamembermonitor
+mdatamembermonitor
+nsnull
+mthreaddeathmonitor
+prdestroymonitor
+mthreaddeathmonitor
+mthreaddeathmonitor
+nsnull
+meventcompletionmonitor
+prdestroymonitor
+meventcompletionmonitor
+meventcompletionmonitor
+nsnull
+mwaitforbodyidsmonitor
+prdestroymonitor
+mwaitforbodyidsmonitor
+mwaitforbodyidsmonitor
+nsnull
+mfetchmsglistmonitor
+prdestroymonitor
+mfetchmsglistmonitor
+mfetchmsglistmonitor
+nsnull
+mfetchbodylistmonitor
+prdestroymonitor
+mfetchbodylistmonitor
+mfetchbodylistmonitor
+nsnull
+nsimapprotocol
+getimaphostname
+mrunningurl
+mhostname
+isempty
+nscomptr
+nsiuri
+url
+doqueryinterface
+mrunningurl
+url
+getasciihost
+mhostname
+mhostname
+get
+nsimapprotocol
+getimapusername
+nscomptr
+nsimsgincomingserver
+server
+doqueryreferent
+mserver
+musername
+server
+server
+getusername
+musername
+musername
+nsimapprotocol
+getimapserverkey
+nscomptr
+nsimsgincomingserver
+server
+doqueryreferent
+mserver
+mserverkey
+server
+server
+getkey
+mserverkey
+mserverkey
+nsimapprotocol
+setupsinkproxy
+nsresult
+res
+nserrorfailure
+mrunningurl
+nsassertion
+msinkeventqueue
+mthread
+fatal
+sink
+event
+queue
+thread
+nscomptr
+nsiproxyobjectmanager
+proxymanager
+dogetservice
+kproxyobjectmanagercid
+res
+proxymanager
+mimapmailfoldersink
+nscomptr
+nsiimapmailfoldersink
+aimapmailfoldersink
+res
+mrunningurl
+getimapmailfoldersink
+getteraddrefs
+aimapmailfoldersink
+nssucceeded
+res
+aimapmailfoldersink
+res
+proxymanager
+getproxyforobject
+msinkeventqueue
+nsgetiid
+nsiimapmailfoldersink
+aimapmailfoldersink
+proxysync
+proxyalways
+getteraddrefs
+mimapmailfoldersink
+mimapmessagesink
+nscomptr
+nsiimapmessagesink
+aimapmessagesink
+res
+mrunningurl
+getimapmessagesink
+getteraddrefs
+aimapmessagesink
+nssucceeded
+res
+aimapmessagesink
+res
+proxymanager
+getproxyforobject
+msinkeventqueue
+nsgetiid
+nsiimapmessagesink
+aimapmessagesink
+proxysync
+proxyalways
+getteraddrefs
+mimapmessagesink
+mimapextensionsink
+nscomptr
+nsiimapextensionsink
+aimapextensionsink
+res
+mrunningurl
+getimapextensionsink
+getteraddrefs
+aimapextensionsink
+nssucceeded
+res
+aimapextensionsink
+nsimapextensionsinkproxy
+extensionsink
+nsimapextensionsinkproxy
+aimapextensionsink
+msinkeventqueue
+mthread
+mimapextensionsink
+doqueryinterface
+extensionsink
+mimapmiscellaneoussink
+nscomptr
+nsiimapmiscellaneoussink
+aimapmiscellaneoussink
+res
+mrunningurl
+getimapmiscellaneoussink
+getteraddrefs
+aimapmiscellaneoussink
+nssucceeded
+res
+aimapmiscellaneoussink
+nsimapmiscellaneoussinkproxy
+miscsink
+nsimapmiscellaneoussinkproxy
+aimapmiscellaneoussink
+msinkeventqueue
+mthread
+mimapmiscellaneoussink
+doqueryinterface
+miscsink
+nsassertion
+nssucceeded
+res
+couldn
+get
+proxies
+mimapserversink
+nscomptr
+nsiimapserversink
+aimapserversink
+res
+mrunningurl
+getimapserversink
+getteraddrefs
+aimapserversink
+nssucceeded
+res
+aimapserversink
+res
+proxymanager
+getproxyforobject
+msinkeventqueue
+nsgetiid
+nsiimapserversink
+aimapserversink
+proxysync
+proxyalways
+getteraddrefs
+mimapserversink
+nsassertion
+nssucceeded
+res
+couldn
+get
+proxies
+nsassertion
+prfalse
+can
+get
+proxy
+service
+nsassertion
+nssucceeded
+res
+couldn
+get
+proxies
+nsresult
+nsimapprotocol
+setupwithurl
+nsiuri
+aurl
+nsisupports
+aconsumer
+nsresult
+rv
+nserrorfailure
+nsprecondition
+aurl
+url
+passed
+into
+imap
+protocol
+aurl
+rv
+aurl
+queryinterface
+nsgetiid
+nsiimapurl
+getteraddrefs
+mrunningurl
+nsfailed
+rv
+rv
+nscomptr
+nsimsgincomingserver
+server
+doqueryreferent
+mserver
+server
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+rv
+mailnewsurl
+getserver
+getteraddrefs
+server
+mserver
+getteraddrefs
+nsgetweakreference
+server
+nscomptr
+nsiimapincomingserver
+imapserver
+doqueryinterface
+server
+nscomptr
+nsistreamlistener
+arealstreamlistener
+doqueryinterface
+aconsumer
+mrunningurl
+getmockchannel
+getteraddrefs
+mmockchannel
+mmockchannel
+nscomptr
+nsistreamlistener
+channellistener
+mmockchannel
+getchannellistener
+getteraddrefs
+channellistener
+channellistener
+arealstreamlistener
+channellistener
+mmockchannel
+getchannelcontext
+getteraddrefs
+mchannelcontext
+arealstreamlistener
+rv
+nsnewasyncstreamlistener
+getteraddrefs
+mchannellistener
+arealstreamlistener
+msinkeventqueue
+pruint
+capability
+kcapabilityundefined
+mhostsessionlist
+getcapabilityforhost
+getimapserverkey
+capability
+getserverstateparser
+setcapabilityflag
+capability
+server
+getusesecauth
+musesecauth
+imapserver
+nsxpidlcstring
+redirectortype
+imapserver
+getredirectortype
+gettercopies
+redirectortype
+mignoreexpunges
+redirectortype
+equals
+aol
+imapserver
+getfetchbychunks
+mfetchbychunks
+mrunningurl
+mtransport
+print
+port
+server
+getport
+port
+port
+prbool
+issecure
+prfalse
+nssucceeded
+server
+getissecure
+issecure
+issecure
+port
+secureimapport
+port
+imapport
+nsxpidlcstring
+hostname
+nscomptr
+nsisockettransportservice
+socketservice
+dogetservice
+ksockettransportservicecid
+rv
+nssucceeded
+rv
+aurl
+aurl
+getport
+port
+server
+getrealhostname
+gettercopies
+hostname
+log
+setupwithurl
+nsnull
+clearing
+imapconnectionisopen
+clearflag
+imapconnectionisopen
+prbool
+issecure
+prfalse
+connectiontype
+nsnull
+nssucceeded
+server
+getissecure
+issecure
+issecure
+connectiontype
+ssl
+nscomptr
+nsiproxyinfo
+proxyinfo
+rv
+nsexamineforproxy
+imap
+hostname
+get
+port
+getteraddrefs
+proxyinfo
+nsfailed
+rv
+proxyinfo
+nsnull
+nsacstring
+sockethost
+pruint
+socketport
+moverrideurlconnectioninfo
+sockethost
+mlogonhost
+socketport
+mlogonport
+sockethost
+hostname
+socketport
+port
+rv
+socketservice
+createtransport
+connectiontype
+connectiontype
+nsnull
+sockethost
+socketport
+proxyinfo
+getteraddrefs
+mtransport
+mtransport
+nscomptr
+nsiinterfacerequestor
+callbacks
+mmockchannel
+getnotificationcallbacks
+getteraddrefs
+callbacks
+callbacks
+mtransport
+setsecuritycallbacks
+callbacks
+nscomptr
+nsitransporteventsink
+sink
+doqueryinterface
+mmockchannel
+sink
+nscomptr
+nsieventqueue
+eventq
+nsgetmaineventq
+getteraddrefs
+eventq
+mtransport
+seteventsink
+sink
+eventq
+rv
+mtransport
+openinputstream
+getteraddrefs
+minputstream
+nsfailed
+rv
+rv
+rv
+mtransport
+openoutputstream
+nsitransport
+openblocking
+getteraddrefs
+moutputstream
+nsfailed
+rv
+rv
+mtransport
+mmockchannel
+nscomptr
+nsisupports
+securityinfo
+mtransport
+getsecurityinfo
+getteraddrefs
+securityinfo
+mmockchannel
+setsecurityinfo
+securityinfo
+nscomptr
+nsiinterfacerequestor
+callbacks
+mmockchannel
+getnotificationcallbacks
+getteraddrefs
+callbacks
+callbacks
+mtransport
+mtransport
+setsecuritycallbacks
+callbacks
+nscomptr
+nsitransporteventsink
+sink
+doqueryinterface
+mmockchannel
+sink
+nscomptr
+nsieventqueue
+eventq
+nsgetmaineventq
+getteraddrefs
+eventq
+mtransport
+seteventsink
+sink
+eventq
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+nscomptr
+nsicacheentrydescriptor
+cacheentry
+mailnewsurl
+getmemcacheentry
+getteraddrefs
+cacheentry
+cacheentry
+cacheentry
+setsecurityinfo
+securityinfo
+rv
+nsimapprotocol
+releaseurlstate
+mtransport
+mtransport
+setsecuritycallbacks
+nsnull
+mtransport
+seteventsink
+nsnull
+nsnull
+mmockchannel
+mimapmailfoldersink
+mimapmailfoldersink
+closemockchannel
+mmockchannel
+mmockchannel
+close
+mmockchannel
+nsnull
+mchannelcontext
+nsnull
+mrunningurl
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mimapserversink
+mimapserversink
+removechannelfromurl
+mailnewsurl
+nsok
+mrunningurl
+nsnull
+mimapmailfoldersink
+nscomptr
+nsisupports
+supports
+doqueryinterface
+mailnewsurl
+mimapmailfoldersink
+preparetoreleaseobject
+supports
+supports
+nsnull
+mailnewsurl
+nsnull
+mimapmailfoldersink
+releaseobject
+mimapmailfoldersink
+nsnull
+mimapmessagesink
+nsnull
+mimapextensionsink
+nsnull
+mimapmiscellaneoussink
+nsnull
+mchannellistener
+nsnull
+mchannelinputstream
+nsnull
+mchanneloutputstream
+nsnull
+nsimethodimp
+nsimapprotocol
+run
+nsimapprotocol
+me
+nsresult
+result
+nsok
+nsassertion
+me
+yuk
+me
+is
+prcentermonitor
+nsassertion
+me
+mimapthreadisrunning
+prfalse
+oh
+oh
+thread
+is
+already
+running
+what
+wrong
+here
+me
+mimapthreadisrunning
+prcexitmonitor
+me
+nsok
+nscomptr
+nsieventqueueservice
+peventqservice
+dogetservice
+keventqueueservicecid
+result
+nsfailed
+result
+result
+result
+peventqservice
+createmonitoredthreadeventqueue
+peventqservice
+getthreadeventqueue
+nscurrentthread
+getteraddrefs
+me
+meventqueue
+nsassertion
+me
+meventqueue
+unable
+to
+create
+imap
+thread
+event
+queue
+nsfailed
+result
+me
+meventqueue
+prcexitmonitor
+me
+result
+me
+mimapthreadisrunning
+prtrue
+prcexitmonitor
+me
+me
+imapthreadmainloop
+me
+meventqueue
+stopacceptingevents
+me
+meventqueue
+processpendingevents
+me
+meventqueue
+nsnull
+nscomptr
+nsimsgincomingserver
+meserver
+doqueryreferent
+mserver
+meserver
+nscomptr
+nsiimapincomingserver
+aimapserver
+doqueryinterface
+meserver
+result
+nssucceeded
+result
+aimapserver
+removeconnection
+me
+meserver
+nsnull
+me
+mrunningurl
+nsnull
+minputstream
+minputstream
+close
+moutputstream
+moutputstream
+close
+mtransport
+me
+mtransport
+close
+nserrorabort
+me
+mtransport
+nsnull
+me
+minputstream
+nsnull
+me
+moutputstream
+nsnull
+me
+mchannellistener
+nsnull
+me
+mchannelcontext
+nsnull
+me
+mmockchannel
+me
+mmockchannel
+close
+me
+mmockchannel
+nsnull
+me
+mchannelinputstream
+nsnull
+me
+mchanneloutputstream
+nsnull
+me
+msinkeventqueue
+nsnull
+me
+meventqueue
+nsnull
+me
+mserver
+nsnull
+me
+mimapmailfoldersink
+nsnull
+me
+mimapextensionsink
+nsnull
+me
+mimapmessagesink
+nsnull
+me
+mimapmiscellaneoussink
+nsnull
+mithread
+nsnull
+result
+peventqservice
+destroythreadeventqueue
+nsok
+prbool
+nsimapprotocol
+imapthreadisrunning
+prbool
+retvalue
+prfalse
+retvalue
+mimapthreadisrunning
+retvalue
+nsimethodimp
+nsimapprotocol
+getthreadeventqueue
+nsieventqueue
+aeventqueue
+prcentermonitor
+aeventqueue
+aeventqueue
+meventqueue
+nsifaddref
+aeventqueue
+prcexitmonitor
+nsok
+nsimethodimp
+nsimapprotocol
+notifyfeeventcompletion
+prentermonitor
+meventcompletionmonitor
+prnotify
+meventcompletionmonitor
+mgotfeeventcompletion
+prtrue
+prexitmonitor
+meventcompletionmonitor
+nsok
+nsimapprotocol
+waitforfeeventcompletion
+prentermonitor
+meventcompletionmonitor
+mgotfeeventcompletion
+prwait
+meventcompletionmonitor
+printervalnotimeout
+mgotfeeventcompletion
+prfalse
+prexitmonitor
+meventcompletionmonitor
+nsimethodimp
+nsimapprotocol
+tellthreadtodie
+prbool
+issafetoclose
+nsautocmonitor
+mon
+murlinprogress
+prtrue
+prbool
+closeneeded
+getserverstateparser
+getimapstate
+nsimapserverresponseparser
+kfolderselected
+issafetoclose
+nscstring
+command
+nsresult
+rv
+nsok
+pruint
+writecount
+mcurrentservercommandtagnumber
+closeneeded
+getdeleteismovetotrash
+testflag
+imapconnectionisopen
+moutputstream
+incrementcommandtagnumber
+command
+getservercommandtag
+command
+append
+close
+crlf
+rv
+moutputstream
+write
+command
+get
+command
+length
+writecount
+log
+senddata
+tellthreadtodie
+command
+get
+nssucceeded
+rv
+testflag
+imapconnectionisopen
+moutputstream
+incrementcommandtagnumber
+command
+getservercommandtag
+command
+append
+logout
+crlf
+rv
+moutputstream
+write
+command
+get
+command
+length
+writecount
+log
+senddata
+tellthreadtodie
+command
+get
+log
+tellthreadtodie
+nsnull
+close
+socket
+connection
+prentermonitor
+mthreaddeathmonitor
+mthreadshoulddie
+prtrue
+prexitmonitor
+mthreaddeathmonitor
+prentermonitor
+meventcompletionmonitor
+prnotifyall
+meventcompletionmonitor
+prexitmonitor
+meventcompletionmonitor
+prentermonitor
+mdataavailablemonitor
+prnotify
+mdataavailablemonitor
+prexitmonitor
+mdataavailablemonitor
+prentermonitor
+murlreadytorunmonitor
+mimapthreadisrunning
+prfalse
+prnotifyall
+murlreadytorunmonitor
+prexitmonitor
+murlreadytorunmonitor
+rv
+nsimethodimp
+nsimapprotocol
+getlastactivetimestamp
+prtime
+atimestamp
+nsautocmonitor
+mon
+atimestamp
+atimestamp
+mlastactivetime
+nsok
+nsimethodimp
+nsimapprotocol
+pseudointerruptmsgload
+nsimsgfolder
+aimapfolder
+nsimsgwindow
+amsgwindow
+prbool
+interrupted
+nsensurearg
+interrupted
+interrupted
+prfalse
+nsautocmonitor
+mon
+mrunningurl
+testflag
+imapcleanupurlstate
+nsimapaction
+imapaction
+mrunningurl
+getimapaction
+imapaction
+imapaction
+nsiimapurl
+nsimapmsgfetch
+nsresult
+rv
+nsok
+nscomptr
+nsiimapurl
+runningimapurl
+rv
+getrunningimapurl
+getteraddrefs
+runningimapurl
+nssucceeded
+rv
+runningimapurl
+nscomptr
+nsimsgfolder
+runningimapfolder
+nscomptr
+nsimsgwindow
+msgwindow
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+runningimapurl
+mailnewsurl
+getmsgwindow
+getteraddrefs
+msgwindow
+mailnewsurl
+getfolder
+getteraddrefs
+runningimapfolder
+aimapfolder
+runningimapfolder
+msgwindow
+amsgwindow
+pseudointerrupt
+prtrue
+interrupted
+prtrue
+ifdef
+debugbienvenu
+printf
+interrupt
+msg
+load
+interrupted
+true
+false
+endif
+nsok
+nsimapprotocol
+imapthreadmainloop
+prlog
+imap
+prlogdebug
+imapthreadmainloop
+entering
+printervaltime
+sleeptime
+kimapsleeptime
+imapthreadisrunning
+deathsignalreceived
+nsresult
+rv
+nsok
+prbool
+readytorun
+nsautomonitor
+mon
+murlreadytorunmonitor
+nssucceeded
+rv
+imapthreadisrunning
+deathsignalreceived
+mnexturlreadytorun
+rv
+mon
+wait
+sleeptime
+readytorun
+mnexturlreadytorun
+mnexturlreadytorun
+prfalse
+nsfailed
+rv
+prpendinginterrupterror
+prgeterror
+printf
+error
+waiting
+monitor
+meventqueue
+processpendingevents
+readytorun
+mrunningurl
+processcurrenturl
+mnexturlreadytorun
+prtrue
+mimapthreadisrunning
+prfalse
+prlog
+imap
+prlogdebug
+imapthreadmainloop
+leaving
+nsimapprotocol
+establishserverconnection
+serverresponse
+createnewlinefromsocket
+serverresponse
+setflag
+imapreceivedgreeting
+nscrt
+strncasecmp
+serverresponse
+ok
+setconnectionstatus
+nscrt
+strncasecmp
+serverresponse
+preauth
+getserverstateparser
+preauthsetauthenticatedstate
+getserverstateparser
+getcapabilityflag
+kcapabilityundefined
+capability
+getserverstateparser
+getcapabilityflag
+kimapcapability
+kimaprevcapability
+kimapother
+setconnectionstatus
+mimapserversink
+setuserauthenticated
+prtrue
+processafterauthenticated
+setconnectionstatus
+prfreeif
+serverresponse
+prbool
+nsimapprotocol
+processcurrenturl
+log
+processcurrenturl
+nsnull
+entering
+prbool
+logonfailed
+prfalse
+prbool
+anotherurlrun
+prfalse
+prbool
+isexternalurl
+nsresult
+rv
+nsok
+pseudointerrupt
+prfalse
+testflag
+imapconnectionisopen
+minputstream
+log
+processcurrenturl
+nsnull
+creating
+nsinputstreampump
+rv
+nsnewinputstreampump
+getteraddrefs
+mpump
+minputstream
+nssucceeded
+rv
+rv
+mpump
+asyncread
+nsnull
+nssucceeded
+rv
+log
+processcurrenturl
+nsnull
+setting
+imapconnectionisopen
+setflag
+imapconnectionisopen
+mrunningurl
+mrunningurl
+getexternallinkurl
+isexternalurl
+isexternalurl
+mrunningurl
+getimapaction
+mimapaction
+mimapaction
+nsiimapurl
+nsimapselectfolder
+mchannellistener
+nscomptr
+nsirequest
+request
+doqueryinterface
+mmockchannel
+mchannellistener
+onstartrequest
+request
+mchannelcontext
+prfalse
+ifdef
+debugbienvenu
+nsassertion
+mimapmiscellaneoussink
+sink
+endif
+mimapmiscellaneoussink
+setupsinkproxy
+getserverstateparser
+initializestate
+getserverstateparser
+setconnected
+prtrue
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+rv
+ifdef
+debugbienvenu
+nsxpidlcstring
+urlspec
+mailnewsurl
+getspec
+gettercopies
+urlspec
+printf
+processing
+url
+urlspec
+endif
+nssucceeded
+rv
+mailnewsurl
+mimapmailfoldersink
+mimapmailfoldersink
+seturlstate
+mailnewsurl
+prtrue
+nsok
+mchannellistener
+nscomptr
+nsirequest
+request
+doqueryinterface
+mmockchannel
+mchannellistener
+onstartrequest
+request
+mchannelcontext
+testflag
+imapreceivedgreeting
+establishserverconnection
+deathsignalreceived
+getconnectionstatus
+getserverstateparser
+getimapstate
+nsimapserverresponseparser
+knonauthenticated
+getserverstateparser
+getcapabilityflag
+kcapabilityundefined
+capability
+getserverstateparser
+getcapabilityflag
+kimapcapability
+kimaprevcapability
+kimapother
+alertusereventusingid
+imapservernotimap
+setconnectionstatus
+logonfailed
+trytologon
+deathsignalreceived
+getconnectionstatus
+getserverstateparser
+getcapabilityflag
+khaslanguagecapability
+language
+mrunningurl
+findmailboxesifnecessary
+nsimapstate
+imapstate
+mrunningurl
+mrunningurl
+getrequiredimapstate
+imapstate
+imapstate
+nsiimapurl
+nsimapauthenticatedstate
+processauthenticatedstateurl
+processselectedstateurl
+logonfailed
+getconnectionstatus
+deathsignalreceived
+handlecurrenturlerror
+logonfailed
+handlecurrenturlerror
+mailnewsurl
+mimapmailfoldersink
+rv
+getserverstateparser
+lastcommandsuccessful
+nsok
+nserrorfailure
+mimapmailfoldersink
+seturlstate
+mailnewsurl
+prfalse
+rv
+nsfailed
+rv
+deathsignalreceived
+mmockchannel
+mmockchannel
+cancel
+rv
+nsassertion
+prfalse
+missing
+url
+sink
+mchannellistener
+nscomptr
+nsirequest
+request
+doqueryinterface
+mmockchannel
+nsassertion
+request
+no
+request
+request
+rv
+mchannellistener
+onstoprequest
+request
+mchannelcontext
+nsok
+mlastactivetime
+prnow
+setflag
+imapcleanupurlstate
+nscomptr
+nsisupports
+copystate
+mrunningurl
+mrunningurl
+getcopystate
+getteraddrefs
+copystate
+mailnewsurl
+nsnull
+nscomptr
+nsiimapmailfoldersink
+imapmailfoldersink
+mimapmailfoldersink
+releaseurlstate
+resetprogressinfo
+clearflag
+imapcleanupurlstate
+murlinprogress
+prfalse
+getconnectionstatus
+imapmailfoldersink
+imapmailfoldersink
+preparetoreleaseobject
+copystate
+imapmailfoldersink
+copynextstreammessage
+getserverstateparser
+lastcommandsuccessful
+copystate
+copystate
+nsnull
+imapmailfoldersink
+releaseobject
+imapmailfoldersink
+nsnull
+mimapserversink
+getconnectionstatus
+rv
+mimapserversink
+loadnextqueuedurl
+anotherurlrun
+rv
+mimapserversink
+abortqueuedurls
+anotherurlrun
+mimapserversink
+nsnull
+getconnectionstatus
+getserverstateparser
+connected
+getserverstateparser
+syntaxerror
+nscomptr
+nsiimapincomingserver
+imapserver
+doqueryreferent
+mserver
+rv
+nssucceeded
+rv
+imapserver
+removeconnection
+deathsignalreceived
+tellthreadtodie
+prfalse
+anotherurlrun
+nsimapprotocol
+parseimapandcheckfornewmail
+commandstring
+prbool
+aignorebadandnoresponses
+commandstring
+getserverstateparser
+parseimapserverresponse
+commandstring
+aignorebadandnoresponses
+getserverstateparser
+parseimapserverresponse
+mcurrentcommand
+get
+aignorebadandnoresponses
+nsimethodimp
+nsimapprotocol
+ondataavailable
+nsirequest
+request
+nsisupports
+ctxt
+nsiinputstream
+aistream
+pruint
+asourceoffset
+pruint
+alength
+alength
+nsassertion
+minputstream
+aistream
+unexpected
+stream
+testflag
+imapwaitingfordata
+clearflag
+imapwaitingfordata
+prentermonitor
+mdataavailablemonitor
+prnotify
+mdataavailablemonitor
+prexitmonitor
+mdataavailablemonitor
+nsassertion
+mpump
+request
+unexpected
+request
+request
+suspend
+mpumpsuspended
+prtrue
+nsok
+nsimethodimp
+nsimapprotocol
+onstartrequest
+nsirequest
+request
+nsisupports
+ctxt
+nsok
+nsimethodimp
+nsimapprotocol
+onstoprequest
+nsirequest
+request
+nsisupports
+ctxt
+nsresult
+astatus
+prbool
+killthread
+prtrue
+nsfailed
+astatus
+astatus
+nserrorunknownhost
+nserrorunknownproxyhost
+alertusereventusingid
+imapunknownhosterror
+nserrorconnectionrefused
+nserrorproxyconnectionrefused
+alertusereventusingid
+imapconnectionrefusederror
+nserrornettimeout
+alertusereventusingid
+imapnettimeouterror
+nserrornetreset
+alertusereventusingid
+imapserverdisconnected
+killthread
+prtrue
+mflags
+imapreceivedgreeting
+alertusereventusingid
+imapserverdroppedconnection
+getconnectionstatus
+deathsignalreceived
+mrunningurl
+alertusereventusingid
+imapserverdisconnected
+prcentermonitor
+mpump
+nsnull
+killthread
+prtrue
+log
+onstoprequest
+nsnull
+clearing
+imapconnectionisopen
+clearflag
+imapconnectionisopen
+tellthreadtodie
+prfalse
+mtransport
+nsnull
+moutputstream
+nsnull
+minputstream
+nsnull
+prcexitmonitor
+nsok
+nsimethodimp
+nsimapprotocol
+getrunningurl
+nsiuri
+result
+result
+mrunningurl
+mrunningurl
+queryinterface
+nsgetiid
+nsiuri
+result
+nserrornullpointer
+nsimethodimp
+nsimapprotocol
+getrunningimapurl
+nsiimapurl
+aimapurl
+aimapurl
+mrunningurl
+mrunningurl
+queryinterface
+nsgetiid
+nsiimapurl
+aimapurl
+nserrornullpointer
+nsresult
+nsimapprotocol
+senddata
+databuffer
+prbool
+asuppresslogging
+nsresult
+rv
+nserrornullpointer
+mtransport
+log
+senddata
+nsnull
+clearing
+imapconnectionisopen
+clearflag
+imapconnectionisopen
+tellthreadtodie
+prfalse
+setconnectionstatus
+nserrorfailure
+databuffer
+moutputstream
+mcurrentcommand
+databuffer
+asuppresslogging
+log
+senddata
+nsnull
+databuffer
+log
+senddata
+nsnull
+logging
+suppressed
+command
+it
+probably
+contained
+authentication
+information
+pruint
+rv
+moutputstream
+write
+databuffer
+plstrlen
+databuffer
+nsfailed
+rv
+log
+senddata
+nsnull
+clearing
+imapconnectionisopen
+clearflag
+imapconnectionisopen
+tellthreadtodie
+prfalse
+setconnectionstatus
+rv
+nsresult
+nsimapprotocol
+loadurl
+nsiuri
+aurl
+nsisupports
+aconsumer
+nsresult
+rv
+nsok
+aurl
+ifdef
+debugbienvenu
+nsxpidlcstring
+urlspec
+aurl
+getspec
+gettercopies
+urlspec
+printf
+loading
+url
+urlspec
+endif
+murlinprogress
+prtrue
+rv
+setupwithurl
+aurl
+aconsumer
+nsassertion
+nssucceeded
+rv
+error
+setting
+up
+imap
+url
+nsfailed
+rv
+rv
+setupsinkproxy
+mlastactivetime
+prnow
+mtransport
+mrunningurl
+nsimapaction
+imapaction
+mrunningurl
+getimapaction
+imapaction
+mneednoop
+imapaction
+nsiimapurl
+nsimapselectfolder
+imapaction
+nsiimapurl
+nsimapdeleteallmsgs
+prentermonitor
+murlreadytorunmonitor
+mnexturlreadytorun
+prtrue
+prnotify
+murlreadytorunmonitor
+prexitmonitor
+murlreadytorunmonitor
+nsassertion
+prfalse
+missing
+channel
+running
+url
+rv
+nsimethodimp
+nsimapprotocol
+isbusy
+prbool
+aisconnectionbusy
+prbool
+isinboxconnection
+aisconnectionbusy
+isinboxconnection
+nserrornullpointer
+nslockinstance
+nsresult
+rv
+nsok
+aisconnectionbusy
+prfalse
+isinboxconnection
+prfalse
+mtransport
+tellthreadtodie
+prfalse
+rv
+nserrorfailure
+murlinprogress
+aisconnectionbusy
+prtrue
+getserverstateparser
+getimapstate
+nsimapserverresponseparser
+kfolderselected
+getserverstateparser
+getselectedmailboxname
+plstrcasecmp
+getserverstateparser
+getselectedmailboxname
+inbox
+isinboxconnection
+prtrue
+nsunlockinstance
+rv
+define
+issubscriptionrelatedaction
+action
+action
+nsiimapurl
+nsimapsubscribe
+action
+nsiimapurl
+nsimapunsubscribe
+action
+nsiimapurl
+nsimapdiscoverallboxesurl
+action
+nsiimapurl
+nsimaplistfolder
+nsimethodimp
+nsimapprotocol
+canhandleurl
+nsiimapurl
+aimapurl
+prbool
+acanrunurl
+prbool
+hastowait
+acanrunurl
+hastowait
+aimapurl
+nserrornullpointer
+nsresult
+rv
+nsok
+nsautocmonitor
+mon
+acanrunurl
+prfalse
+hastowait
+prfalse
+prbool
+isbusy
+prfalse
+prbool
+isinboxconnection
+prfalse
+mtransport
+tellthreadtodie
+prfalse
+nserrorfailure
+prbool
+isalive
+rv
+mtransport
+isalive
+isalive
+nsfailed
+rv
+isalive
+tellthreadtodie
+prfalse
+nserrorfailure
+isbusy
+isbusy
+isinboxconnection
+prbool
+inselectedstate
+getserverstateparser
+getimapstate
+nsimapserverresponseparser
+kfolderselected
+nscautostring
+curselectedurlfoldername
+nscautostring
+pendingurlfoldername
+inselectedstate
+curselectedurlfoldername
+getserverstateparser
+getselectedmailboxname
+isbusy
+nsimapstate
+cururlimapstate
+mrunningurl
+mrunningurl
+getrequiredimapstate
+cururlimapstate
+cururlimapstate
+nsiimapurl
+nsimapselectedstate
+foldername
+oncreateserversourcefolderpathstring
+curselectedurlfoldername
+equals
+foldername
+pendingurlfoldername
+assign
+foldername
+inselectedstate
+prtrue
+prfree
+foldername
+nsimapstate
+imapstate
+nsimapaction
+actionforproposedurl
+aimapurl
+getimapaction
+actionforproposedurl
+aimapurl
+getrequiredimapstate
+imapstate
+prbool
+isselectedstateurl
+imapstate
+nsiimapurl
+nsimapselectedstate
+actionforproposedurl
+nsiimapurl
+nsimapdeletefolder
+actionforproposedurl
+nsiimapurl
+nsimaprenamefolder
+actionforproposedurl
+nsiimapurl
+nsimapmovefolderhierarchy
+actionforproposedurl
+nsiimapurl
+nsimapappenddraftfromfile
+actionforproposedurl
+nsiimapurl
+nsimapappendmsgfromfile
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+aimapurl
+nscomptr
+nsimsgincomingserver
+server
+rv
+msgurl
+getserver
+getteraddrefs
+server
+nssucceeded
+rv
+urlhostname
+nsnull
+urlusername
+nsnull
+rv
+server
+gethostname
+urlhostname
+nsfailed
+rv
+rv
+rv
+server
+getusername
+urlusername
+nsfailed
+rv
+rv
+getimaphostname
+plstrcasecmp
+urlhostname
+getimaphostname
+getimapusername
+plstrcasecmp
+urlusername
+getimapusername
+isselectedstateurl
+inselectedstate
+foldernameforproposedurl
+nsnull
+rv
+aimapurl
+createserversourcefolderpathstring
+foldernameforproposedurl
+nssucceeded
+rv
+foldernameforproposedurl
+prbool
+isinbox
+plstrcasecmp
+inbox
+foldernameforproposedurl
+curselectedurlfoldername
+isempty
+pendingurlfoldername
+isempty
+prbool
+matched
+isinbox
+plstrcasecmp
+curselectedurlfoldername
+get
+foldernameforproposedurl
+plstrcmp
+curselectedurlfoldername
+get
+foldernameforproposedurl
+matched
+pendingurlfoldername
+isempty
+matched
+isinbox
+plstrcasecmp
+pendingurlfoldername
+get
+foldernameforproposedurl
+plstrcmp
+pendingurlfoldername
+get
+foldernameforproposedurl
+matched
+isbusy
+hastowait
+prtrue
+acanrunurl
+prtrue
+ifdef
+debugbienvenu
+printf
+proposed
+url
+folder
+connection
+has
+to
+wait
+can
+run
+foldernameforproposedurl
+cururlfoldername
+get
+hastowait
+true
+false
+acanrunurl
+true
+false
+endif
+prfreeif
+foldernameforproposedurl
+nsimapaction
+actionforrunningurl
+issubscriptionrelatedaction
+actionforproposedurl
+isbusy
+mrunningurl
+mrunningurl
+getimapaction
+actionforrunningurl
+issubscriptionrelatedaction
+actionforrunningurl
+acanrunurl
+prfalse
+hastowait
+prtrue
+isbusy
+acanrunurl
+prtrue
+prfree
+urlhostname
+prfree
+urlusername
+rv
+nsimapprotocol
+incrementcommandtagnumber
+sprintf
+mcurrentservercommandtag
+ld
+mcurrentservercommandtagnumber
+nsimapprotocol
+getservercommandtag
+mcurrentservercommandtag
+nsimapprotocol
+processselectedstateurl
+nsxpidlcstring
+mailboxname
+prbool
+bmessageidsareuids
+prtrue
+imapmessageflagstype
+msgflags
+hostname
+getimaphostname
+nscstring
+urlhost
+nsresult
+res
+res
+mrunningurl
+getimapaction
+mimapaction
+mrunningurl
+messageidsareuids
+bmessageidsareuids
+mrunningurl
+getmsgflags
+msgflags
+res
+createserversourcefolderpathstring
+gettercopies
+mailboxname
+nssucceeded
+res
+deathsignalreceived
+prbool
+selectissued
+prfalse
+getserverstateparser
+getimapstate
+nsimapserverresponseparser
+kfolderselected
+getserverstateparser
+getselectedmailboxname
+plstrcmp
+getserverstateparser
+getselectedmailboxname
+mailboxname
+mcloseneededbeforeselect
+close
+getserverstateparser
+lastcommandsuccessful
+selectissued
+prtrue
+autosubscribetomailboxifnecessary
+mailboxname
+selectmailbox
+mailboxname
+getserverstateparser
+getselectedmailboxname
+selectmailbox
+mailboxname
+selectissued
+prtrue
+mneednoop
+mnoopcount
+gpromotenooptocheckcount
+mnoopcount
+gpromotenooptocheckcount
+checkneeded
+check
+noop
+mneednoop
+prfalse
+autosubscribetomailboxifnecessary
+mailboxname
+selectmailbox
+mailboxname
+selectissued
+prtrue
+selectissued
+refreshaclforfolderifnecessary
+mailboxname
+prbool
+uidvalidityok
+prtrue
+getserverstateparser
+lastcommandsuccessful
+selectissued
+mimapaction
+nsiimapurl
+nsimapselectfolder
+mimapaction
+nsiimapurl
+nsimapliteselectfolder
+mimapmailfoldersink
+print
+uidvalidity
+mimapmailfoldersink
+getuidvalidity
+uidvalidity
+deathsignalreceived
+uidvalidityok
+uidvalidity
+kuidunknown
+uidvalidity
+getserverstateparser
+folderuid
+getserverstateparser
+lastcommandsuccessful
+deathsignalreceived
+uidvalidityok
+mimapaction
+nsiimapurl
+nsimapdeleteallmsgs
+getserverstateparser
+currentfolderreadonly
+mimapaction
+nsiimapurl
+nsimapaddmsgflags
+mimapaction
+nsiimapurl
+nsimapsubtractmsgflags
+prbool
+canchangeflag
+prfalse
+getserverstateparser
+serverhasaclcapability
+mimapmailfoldersink
+pruint
+aclflags
+nssucceeded
+mimapmailfoldersink
+getaclflags
+aclflags
+aclflags
+canchangeflag
+msgflags
+kimapmsgseenflag
+aclflags
+imapaclstoreseenflag
+canchangeflag
+getserverstateparser
+settablepermanentflags
+msgflags
+msgflags
+canchangeflag
+mimapaction
+nsiimapurl
+nsimapexpungefolder
+mimapaction
+nsiimapurl
+nsimapdeletemsg
+mimapaction
+nsiimapurl
+nsimapdeleteallmsgs
+mimapaction
+nsiimapurl
+nsimapliteselectfolder
+getserverstateparser
+lastcommandsuccessful
+mimapmailfoldersink
+mimapmailfoldersink
+setuidvalidity
+getserverstateparser
+folderuid
+processmailboxupdate
+prfalse
+nsiimapurl
+nsimapsavemessagetodisk
+nsiimapurl
+nsimapmsgfetch
+nsiimapurl
+nsimapmsgfetchpeek
+nsiimapurl
+nsimapmsgdownloadforoffline
+nsxpidlcstring
+messageidstring
+mrunningurl
+createlistofmessageidsstring
+gettercopies
+messageidstring
+handlingmultiplemessages
+messageidstring
+mimapaction
+nsiimapurl
+nsimapmsgdownloadforoffline
+mimapaction
+nsiimapurl
+nsimapmsgfetchpeek
+setprogressstring
+imapfolderreceivingmessageof
+mprogressindex
+mprogresscount
+countmessagesinidstring
+messageidstring
+mimapaction
+nsiimapurl
+nsimapmsgfetchpeek
+setcontentmodified
+imapcontentnotmodified
+fetchmessage
+messageidstring
+keverythingrfcpeek
+bmessageidsareuids
+setprogressstring
+imappart
+nsnull
+mrunningurl
+getimapparttofetch
+imappart
+imappart
+bmessageidsareuids
+imapcontentmodifiedtype
+modtype
+getshowattachmentsinline
+imapcontentmodifiedviewinline
+imapcontentmodifiedviewaslinks
+nsimapbodyshell
+foundshell
+nsnull
+res
+mhostsessionlist
+findshellincacheforhost
+getimapserverkey
+getserverstateparser
+getselectedmailboxname
+messageidstring
+modtype
+foundshell
+foundshell
+log
+shell
+loading
+part
+shell
+found
+in
+cache
+setcontentmodified
+modtype
+bodystructure
+messageidstring
+bmessageidsareuids
+log
+shell
+loading
+part
+cached
+shell
+setcontentmodified
+modtype
+foundshell
+setconnection
+getserverstateparser
+usecachedshell
+foundshell
+getserverstateparser
+setcurrentresponseuid
+pruint
+atoi
+messageidstring
+foundshell
+generate
+imappart
+getserverstateparser
+usecachedshell
+nsassertion
+prfalse
+message
+ids
+aren
+uids
+prfree
+imappart
+pruint
+messagesize
+getmessagesize
+messageidstring
+bmessageidsareuids
+prbool
+allowedtobreakapart
+prtrue
+prbool
+mimepartselectordetected
+prbool
+urloktofetchbyparts
+prfalse
+mrunningurl
+getmimepartselectordetected
+mimepartselectordetected
+mrunningurl
+getfetchpartsondemand
+urloktofetchbyparts
+urloktofetchbyparts
+allowedtobreakapart
+getshouldfetchallparts
+getserverstateparser
+serverhasimaprevcapability
+nsimapbodyshell
+foundshell
+imapcontentmodifiedtype
+modtype
+getshowattachmentsinline
+imapcontentmodifiedviewinline
+imapcontentmodifiedviewaslinks
+nscomptr
+nsimsgmailnewsurl
+mailurl
+doqueryinterface
+mrunningurl
+mailurl
+mailurl
+setaddtomemorycache
+prfalse
+mimapmessagesink
+mimapmessagesink
+setimagecachesessionforurl
+mailurl
+setcontentmodified
+modtype
+bmessageidsareuids
+res
+mhostsessionlist
+findshellincacheforhost
+getimapserverkey
+getserverstateparser
+getselectedmailboxname
+messageidstring
+modtype
+foundshell
+foundshell
+log
+shell
+loading
+message
+cached
+shell
+foundshell
+setconnection
+getserverstateparser
+usecachedshell
+foundshell
+getserverstateparser
+setcurrentresponseuid
+pruint
+atoi
+messageidstring
+foundshell
+generate
+getserverstateparser
+usecachedshell
+foundshell
+bodystructure
+messageidstring
+bmessageidsareuids
+setcontentmodified
+imapcontentnotmodified
+fetchtrychunking
+messageidstring
+keverythingrfc
+bmessageidsareuids
+messagesize
+prtrue
+nsiimapurl
+nsimapexpungefolder
+expunge
+nsiimapurl
+nsimapselectfolder
+nsiimapurl
+nsimapselectnoopfolder
+processmailboxupdate
+prtrue
+nsiimapurl
+nsimapmsgheader
+nsxpidlcstring
+messageids
+mrunningurl
+createlistofmessageidsstring
+gettercopies
+messageids
+fetchmessage
+messageids
+kheadersrfcanduid
+bmessageidsareuids
+headerfetchcompleted
+nsiimapurl
+nsimapsearch
+nsxpidlcstring
+searchcriteriastring
+mrunningurl
+createsearchcriteriastring
+gettercopies
+searchcriteriastring
+search
+searchcriteriastring
+bmessageidsareuids
+nsiimapurl
+nsimapuserdefinedmsgcommand
+nsxpidlcstring
+messageidstring
+nsxpidlcstring
+command
+mrunningurl
+getcommand
+gettercopies
+command
+mrunningurl
+createlistofmessageidsstring
+gettercopies
+messageidstring
+issueuserdefinedmsgcommand
+command
+messageidstring
+nsiimapurl
+nsimapuserdefinedfetchattribute
+nsxpidlcstring
+messageidstring
+nsxpidlcstring
+attribute
+mrunningurl
+getcustomattributetofetch
+gettercopies
+attribute
+mrunningurl
+createlistofmessageidsstring
+gettercopies
+messageidstring
+fetchmsgattribute
+messageidstring
+attribute
+nsiimapurl
+nsimapmsgstorecustomkeywords
+pruint
+userflags
+getsupporteduserflags
+userflags
+userflags
+kimapmsgsupportuserflag
+nsxpidlcstring
+messageidstring
+nsxpidlcstring
+addflags
+nsxpidlcstring
+subtractflags
+mrunningurl
+createlistofmessageidsstring
+gettercopies
+messageidstring
+mrunningurl
+getcustomaddflags
+gettercopies
+addflags
+mrunningurl
+getcustomsubtractflags
+gettercopies
+subtractflags
+addflags
+isempty
+nscautostring
+storestring
+flags
+storestring
+append
+addflags
+storestring
+append
+store
+messageidstring
+storestring
+get
+prtrue
+subtractflags
+isempty
+nscautostring
+storestring
+flags
+storestring
+append
+subtractflags
+storestring
+append
+store
+messageidstring
+storestring
+get
+prtrue
+nsiimapurl
+nsimapdeletemsg
+nsxpidlcstring
+messageidstring
+mrunningurl
+createlistofmessageidsstring
+gettercopies
+messageidstring
+handlingmultiplemessages
+messageidstring
+progresseventfunctionusingid
+imapdeletingmessages
+progresseventfunctionusingid
+imapdeletingmessage
+store
+messageidstring
+flags
+deleted
+bmessageidsareuids
+getserverstateparser
+lastcommandsuccessful
+utfnamestruct
+namestruct
+utfnamestruct
+prmalloc
+utfnamestruct
+canonicalname
+namestruct
+selectedmailboxname
+getserverstateparser
+getselectedmailboxname
+selectedmailboxname
+mrunningurl
+allocatecanonicalpath
+selectedmailboxname
+konlinehierarchyseparatorunknown
+canonicalname
+mimapmessagesink
+mimapmessagesink
+notifymessagedeleted
+canonicalname
+prfalse
+messageidstring
+handlememoryfailure
+nsiimapurl
+nsimapdeletefolderandmsgs
+deletefolderandmsgs
+mailboxname
+nsiimapurl
+nsimapdeleteallmsgs
+uint
+numberofmessages
+getserverstateparser
+numberofmessages
+numberofmessages
+store
+flags
+silent
+deleted
+prfalse
+getserverstateparser
+lastcommandsuccessful
+expunge
+getserverstateparser
+lastcommandsuccessful
+utfnamestruct
+namestruct
+utfnamestruct
+prmalloc
+utfnamestruct
+canonicalname
+namestruct
+selectedmailboxname
+getserverstateparser
+getselectedmailboxname
+selectedmailboxname
+mrunningurl
+allocatecanonicalpath
+selectedmailboxname
+konlinehierarchyseparatorunknown
+canonicalname
+mimapmessagesink
+mimapmessagesink
+notifymessagedeleted
+canonicalname
+prtrue
+nsnull
+prbool
+deleteself
+prfalse
+deletesubfolders
+mailboxname
+deleteself
+nsiimapurl
+nsimapappenddraftfromfile
+onappendmsgfromfile
+nsiimapurl
+nsimapaddmsgflags
+nsxpidlcstring
+messageidstring
+mrunningurl
+createlistofmessageidsstring
+gettercopies
+messageidstring
+processstoreflags
+messageidstring
+bmessageidsareuids
+msgflags
+prtrue
+nsiimapurl
+nsimapsubtractmsgflags
+nsxpidlcstring
+messageidstring
+mrunningurl
+createlistofmessageidsstring
+gettercopies
+messageidstring
+processstoreflags
+messageidstring
+bmessageidsareuids
+msgflags
+prfalse
+nsiimapurl
+nsimapsetmsgflags
+nsxpidlcstring
+messageidstring
+mrunningurl
+createlistofmessageidsstring
+gettercopies
+messageidstring
+processstoreflags
+messageidstring
+bmessageidsareuids
+msgflags
+prtrue
+processstoreflags
+messageidstring
+bmessageidsareuids
+msgflags
+prfalse
+nsiimapurl
+nsimapbiff
+periodicbiff
+nsiimapurl
+nsimaponlinecopy
+nsiimapurl
+nsimaponlinemove
+nsxpidlcstring
+messageidstring
+mrunningurl
+createlistofmessageidsstring
+gettercopies
+messageidstring
+destinationmailbox
+oncreateserverdestinationfolderpathstring
+destinationmailbox
+mimapaction
+nsiimapurl
+nsimaponlinemove
+handlingmultiplemessages
+messageidstring
+progresseventfunctionusingidwithstring
+imapmovingmessagesto
+destinationmailbox
+progresseventfunctionusingidwithstring
+imapmovingmessageto
+destinationmailbox
+handlingmultiplemessages
+messageidstring
+progresseventfunctionusingidwithstring
+imapcopyingmessagesto
+destinationmailbox
+progresseventfunctionusingidwithstring
+imapcopyingmessageto
+destinationmailbox
+copy
+messageidstring
+destinationmailbox
+bmessageidsareuids
+prfreeif
+destinationmailbox
+imaponlinecopystate
+copystate
+deathsignalreceived
+copystate
+imaponlinecopystatetype
+kinterruptedstate
+copystate
+getserverstateparser
+lastcommandsuccessful
+imaponlinecopystate
+imaponlinecopystatetype
+ksuccessfulcopy
+imaponlinecopystate
+imaponlinecopystatetype
+kfailedcopy
+mimapmailfoldersink
+mimapmailfoldersink
+onlinecopycompleted
+copystate
+getserverstateparser
+lastcommandsuccessful
+mimapaction
+nsiimapurl
+nsimaponlinemove
+getserverstateparser
+serverisaolserver
+store
+messageidstring
+flags
+deleted
+bmessageidsareuids
+prbool
+storesuccessful
+getserverstateparser
+lastcommandsuccessful
+mimapmailfoldersink
+copystate
+storesuccessful
+imaponlinecopystate
+imaponlinecopystatetype
+ksuccessfuldelete
+imaponlinecopystate
+imaponlinecopystatetype
+kfaileddelete
+mimapmailfoldersink
+onlinecopycompleted
+copystate
+handlememoryfailure
+nsiimapurl
+nsimaponlinetoofflinecopy
+nsiimapurl
+nsimaponlinetoofflinemove
+nsxpidlcstring
+messageidstring
+nsresult
+rv
+mrunningurl
+createlistofmessageidsstring
+gettercopies
+messageidstring
+nssucceeded
+rv
+setprogressstring
+imapfolderreceivingmessageof
+mprogressindex
+mprogresscount
+countmessagesinidstring
+messageidstring
+fetchmessage
+messageidstring
+keverythingrfcpeek
+bmessageidsareuids
+setprogressstring
+mimapmailfoldersink
+imaponlinecopystate
+copystatus
+getserverstateparser
+lastcommandsuccessful
+copystatus
+imaponlinecopystatetype
+ksuccessfulcopy
+copystatus
+imaponlinecopystatetype
+kfailedcopy
+mimapmailfoldersink
+onlinecopycompleted
+copystatus
+getserverstateparser
+lastcommandsuccessful
+mimapaction
+nsiimapurl
+nsimaponlinetoofflinemove
+store
+messageidstring
+flags
+deleted
+bmessageidsareuids
+getserverstateparser
+lastcommandsuccessful
+copystatus
+imaponlinecopystatetype
+ksuccessfuldelete
+copystatus
+imaponlinecopystatetype
+kfaileddelete
+mimapmailfoldersink
+onlinecopycompleted
+copystatus
+handlememoryfailure
+getserverstateparser
+lastcommandsuccessful
+uidvalidityok
+processmailboxupdate
+prfalse
+deathsignalreceived
+handlememoryfailure
+nsimapprotocol
+autosubscribetomailboxifnecessary
+mailboxname
+ifdef
+haveport
+mfolderneedssubscribing
+fhierarchynamestate
+klistingforinfoonly
+list
+mailboxname
+prfalse
+fhierarchynamestate
+knooperationinprogress
+timapmailboxinfo
+mb
+total
+xplistcount
+flistedmailboxlist
+mb
+timapmailboxinfo
+xplistremovetopobject
+flistedmailboxlist
+mb
+mb
+total
+timaphostinfo
+gethostisusingsubscription
+fcurrenturl
+geturlhost
+mautosubscribeonopen
+xpbool
+lastreportingerrors
+getserverstateparser
+getreportingerrors
+getserverstateparser
+setreportingerrors
+prfalse
+subscribe
+mailboxname
+getserverstateparser
+setreportingerrors
+lastreportingerrors
+fhierarchynamestate
+knooperationinprogress
+list
+mailboxname
+prfalse
+mfolderneedssubscribing
+prfalse
+endif
+nsresult
+nsimapprotocol
+beginmessagedownload
+pruint
+totalmessagesize
+contenttype
+nsresult
+rv
+nsok
+sizestring
+prsmprintf
+open
+size
+ld
+totalmessagesize
+log
+stream
+sizestring
+begin
+message
+download
+stream
+prfreeif
+sizestring
+contenttype
+getserverstateparser
+getdownloadingheaders
+mhdrdownloadcache
+startnewhdr
+getteraddrefs
+mcurhdrinfo
+mcurhdrinfo
+mcurhdrinfo
+setmsgsize
+totalmessagesize
+nsok
+mchannellistener
+rv
+nsnewpipe
+getteraddrefs
+mchannelinputstream
+getteraddrefs
+mchanneloutputstream
+nsassertion
+nssucceeded
+rv
+nsnewpipe
+failed
+mimapmessagesink
+nscomptr
+nsifilespec
+filespec
+prbool
+adddummyenvelope
+prtrue
+nscomptr
+nsimsgmessageurl
+msgurl
+doqueryinterface
+mrunningurl
+msgurl
+getmessagefile
+getteraddrefs
+filespec
+msgurl
+getadddummyenvelope
+adddummyenvelope
+nsxpidlcstring
+nativepath
+filespec
+filespec
+getnativepath
+gettercopies
+nativepath
+rv
+mimapmessagesink
+setupmsgwritestream
+nativepath
+adddummyenvelope
+mimapmailfoldersink
+mrunningurl
+nscomptr
+nsimsgmailnewsurl
+mailurl
+doqueryinterface
+mrunningurl
+mimapmailfoldersink
+startmessage
+mailurl
+handlememoryfailure
+rv
+nsimapprotocol
+getshoulddownloadallheaders
+prbool
+aresult
+mimapmailfoldersink
+mimapmailfoldersink
+getshoulddownloadallheaders
+aresult
+nsimapprotocol
+getarbitraryheaderstodownload
+aresult
+mimapserversink
+mimapserversink
+getarbitraryheaders
+aresult
+prtimeseconds
+prtime
+prtime
+print
+seconds
+print
+microsecondspersecond
+intermediateresult
+llil
+microsecondspersecond
+prusecpersec
+lldiv
+intermediateresult
+prtime
+microsecondspersecond
+llli
+seconds
+intermediateresult
+nsimapprotocol
+adjustchunksize
+prtime
+deltatime
+print
+deltainseconds
+mendtime
+prnow
+llsub
+deltatime
+mendtime
+mstarttime
+prtimeseconds
+deltatime
+deltainseconds
+mtrackingtime
+prfalse
+deltainseconds
+deltainseconds
+mtoofasttime
+mchunksize
+mchunkaddsize
+mchunkthreshold
+mchunksize
+mchunksize
+mchunksize
+mmaxchunksize
+mchunksize
+mmaxchunksize
+deltainseconds
+midealtime
+mchunksize
+mchunkstartsize
+mchunksize
+mchunkstartsize
+mchunksize
+mchunkaddsize
+mchunksize
+mchunkaddsize
+mchunkthreshold
+mchunksize
+mchunksize
+nsimapprotocol
+createescapedmailboxname
+rawname
+nscstring
+escapedname
+rawname
+print
+strindex
+rawname
+strindex
+currentchar
+rawname
+currentchar
+currentchar
+escapedname
+insert
+strindex
+tonewcstring
+escapedname
+nsimapprotocol
+selectmailbox
+mailboxname
+progresseventfunctionusingid
+imapstatusselectingmailbox
+incrementcommandtagnumber
+mcloseneededbeforeselect
+prfalse
+getserverstateparser
+resetflaginfo
+escapedname
+createescapedmailboxname
+mailboxname
+nscstring
+commandbuffer
+getservercommandtag
+commandbuffer
+append
+select
+commandbuffer
+append
+escapedname
+commandbuffer
+append
+crlf
+nsmemory
+free
+escapedname
+nsresult
+res
+res
+senddata
+commandbuffer
+get
+nsfailed
+res
+parseimapandcheckfornewmail
+print
+numofmessagesinflagstate
+nsimapaction
+imapaction
+mflagstate
+getnumberofmessages
+numofmessagesinflagstate
+res
+mrunningurl
+getimapaction
+imapaction
+nssucceeded
+res
+imapaction
+nsiimapurl
+nsimapselectfolder
+imapaction
+nsiimapurl
+nsimapexpungefolder
+imapaction
+nsiimapurl
+nsimapliteselectfolder
+imapaction
+nsiimapurl
+nsimapdeleteallmsgs
+getserverstateparser
+numberofmessages
+numofmessagesinflagstate
+numofmessagesinflagstate
+processmailboxupdate
+prfalse
+nsimapprotocol
+bodystructure
+messageid
+prbool
+idisuid
+incrementcommandtagnumber
+nscstring
+commandstring
+getservercommandtag
+idisuid
+commandstring
+append
+uid
+commandstring
+append
+fetch
+commandstring
+append
+messageid
+commandstring
+append
+bodystructure
+crlf
+nsresult
+rv
+senddata
+commandstring
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+commandstring
+get
+nsimapprotocol
+pipelinedfetchmessageparts
+uid
+nsimapmessagepartidarray
+parts
+nscstring
+stringtofetch
+what
+int
+currentpartnum
+parts
+getnumparts
+currentpartnum
+deathsignalreceived
+nsimapmessagepartid
+currentpart
+parts
+getpart
+currentpartnum
+currentpart
+currentpartnum
+stringtofetch
+append
+currentpart
+getfields
+kmimeheader
+what
+body
+what
+append
+currentpart
+getpartnumberstring
+what
+append
+mime
+stringtofetch
+append
+what
+krfcheadersonly
+currentpart
+getpartnumberstring
+what
+body
+what
+append
+currentpart
+getpartnumberstring
+what
+append
+header
+stringtofetch
+append
+what
+stringtofetch
+append
+body
+header
+nsassertion
+prfalse
+we
+should
+only
+be
+pipelining
+mime
+headers
+message
+headers
+currentpartnum
+parts
+getnumparts
+deathsignalreceived
+getpseudointerrupted
+stringtofetch
+get
+incrementcommandtagnumber
+nscstring
+commandstring
+getservercommandtag
+commandstring
+append
+uid
+fetch
+commandstring
+append
+uid
+commandstring
+append
+commandstring
+append
+stringtofetch
+commandstring
+append
+crlf
+nsresult
+rv
+senddata
+commandstring
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+commandstring
+get
+nsimapprotocol
+fetchmsgattribute
+messageids
+attribute
+incrementcommandtagnumber
+nscautostring
+commandstring
+getservercommandtag
+commandstring
+append
+uid
+fetch
+commandstring
+append
+messageids
+commandstring
+append
+commandstring
+append
+attribute
+commandstring
+append
+crlf
+nsresult
+rv
+senddata
+commandstring
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+commandstring
+get
+getserverstateparser
+setfetchingflags
+prfalse
+getserverstateparser
+setfetchingeverythingrfc
+prfalse
+nsimapprotocol
+fetchmessage
+messageids
+nsimapefetchfields
+whattofetch
+prbool
+idisuid
+pruint
+startbyte
+pruint
+endbyte
+part
+incrementcommandtagnumber
+nscstring
+commandstring
+idisuid
+commandstring
+uid
+fetch
+commandstring
+fetch
+whattofetch
+keverythingrfc
+mflagchangecount
+getserverstateparser
+setfetchingeverythingrfc
+prtrue
+mtrackingtime
+adjustchunksize
+mstarttime
+prnow
+mtrackingtime
+prtrue
+getserverstateparser
+serverhasimaprevcapability
+getserverstateparser
+getcapabilityflag
+khasxsendercapability
+commandstring
+append
+xsender
+uid
+rfc
+size
+body
+commandstring
+append
+uid
+rfc
+size
+body
+getserverstateparser
+getcapabilityflag
+khasxsendercapability
+commandstring
+append
+xsender
+uid
+rfc
+size
+rfc
+commandstring
+append
+uid
+rfc
+size
+rfc
+endbyte
+byterangestring
+prsmprintf
+ld
+ld
+startbyte
+endbyte
+byterangestring
+commandstring
+append
+byterangestring
+prfree
+byterangestring
+commandstring
+append
+keverythingrfcpeek
+formatstring
+pruint
+servercapabilityflags
+getserverstateparser
+getcapabilityflag
+getserverstateparser
+setfetchingeverythingrfc
+prtrue
+servercapabilityflags
+kimaprevcapability
+servercapabilityflags
+khasxsendercapability
+formatstring
+xsender
+uid
+rfc
+size
+body
+peek
+formatstring
+uid
+rfc
+size
+body
+peek
+servercapabilityflags
+khasxsendercapability
+formatstring
+xsender
+uid
+rfc
+size
+rfc
+peek
+formatstring
+uid
+rfc
+size
+rfc
+peek
+commandstring
+append
+formatstring
+kheadersrfcanduid
+getserverstateparser
+serverhasimaprevcapability
+pruint
+servercapabilityflags
+getserverstateparser
+getcapabilityflag
+prbool
+aolimapserver
+servercapabilityflags
+kaolimapcapability
+prbool
+downloadallheaders
+prfalse
+getshoulddownloadallheaders
+downloadallheaders
+downloadallheaders
+headerstodl
+nsnull
+what
+nsnull
+dbheaders
+guseenvelopecmd
+imapdbheaders
+imapenvanddbheaders
+nsxpidlcstring
+arbitraryheaders
+getarbitraryheaderstodownload
+gettercopies
+arbitraryheaders
+arbitraryheaders
+isempty
+headerstodl
+nscrt
+strdup
+dbheaders
+headerstodl
+prsmprintf
+dbheaders
+arbitraryheaders
+get
+aolimapserver
+what
+strdup
+xaol
+envelope
+internaldate
+guseenvelopecmd
+what
+prsmprintf
+envelope
+body
+peek
+header
+fields
+headerstodl
+what
+prsmprintf
+body
+peek
+header
+fields
+headerstodl
+nscrt
+free
+headerstodl
+what
+commandstring
+append
+uid
+aolimapserver
+commandstring
+append
+xaol
+size
+commandstring
+append
+rfc
+size
+commandstring
+append
+flags
+commandstring
+append
+what
+prfree
+what
+commandstring
+append
+uid
+rfc
+size
+body
+peek
+header
+flags
+commandstring
+append
+uid
+rfc
+size
+body
+peek
+header
+flags
+commandstring
+append
+uid
+rfc
+size
+rfc
+header
+flags
+kuid
+commandstring
+append
+uid
+kflags
+getserverstateparser
+setfetchingflags
+prtrue
+commandstring
+append
+flags
+krfcsize
+commandstring
+append
+rfc
+size
+krfcheadersonly
+getserverstateparser
+serverhasimaprevcapability
+part
+commandstring
+append
+body
+what
+prsmprintf
+header
+part
+what
+commandstring
+append
+what
+prfree
+what
+handlememoryfailure
+commandstring
+append
+body
+header
+commandstring
+append
+rfc
+header
+kmimepart
+commandstring
+append
+body
+endbyte
+byterangestring
+prsmprintf
+ld
+ld
+startbyte
+endbyte
+byterangestring
+commandstring
+append
+byterangestring
+prfree
+byterangestring
+commandstring
+append
+kmimeheader
+commandstring
+append
+body
+mime
+commandstring
+append
+crlf
+commandtag
+getservercommandtag
+protocolstringsize
+commandstring
+length
+strlen
+messageids
+plstrlen
+commandtag
+part
+plstrlen
+part
+protocolstring
+prcalloc
+protocolstringsize
+protocolstring
+ccommandstr
+tonewcstring
+commandstring
+whattofetch
+kmimepart
+whattofetch
+kmimeheader
+prsnprintf
+protocolstring
+protocolstringsize
+ccommandstr
+commandtag
+messageids
+part
+prsnprintf
+protocolstring
+protocolstringsize
+ccommandstr
+commandtag
+messageids
+nsresult
+rv
+senddata
+protocolstring
+nsmemory
+free
+ccommandstr
+nssucceeded
+rv
+parseimapandcheckfornewmail
+protocolstring
+prfree
+protocolstring
+getserverstateparser
+setfetchingflags
+prfalse
+getserverstateparser
+setfetchingeverythingrfc
+prfalse
+getserverstateparser
+lastcommandsuccessful
+checkneeded
+check
+handlememoryfailure
+nsimapprotocol
+fetchtrychunking
+messageids
+nsimapefetchfields
+whattofetch
+prbool
+idisuid
+part
+pruint
+downloadsize
+prbool
+trychunking
+getserverstateparser
+settotaldownloadsize
+downloadsize
+mfetchbychunks
+trychunking
+getserverstateparser
+serverhasimaprevcapability
+downloadsize
+pruint
+mchunkthreshold
+pruint
+startbyte
+getserverstateparser
+clearlastfetchchunkreceived
+deathsignalreceived
+getpseudointerrupted
+getserverstateparser
+getlastfetchchunkreceived
+getserverstateparser
+continueparse
+pruint
+sizetofetch
+startbyte
+mchunksize
+downloadsize
+downloadsize
+startbyte
+mchunksize
+fetchmessage
+messageids
+whattofetch
+idisuid
+startbyte
+sizetofetch
+part
+startbyte
+sizetofetch
+whattofetch
+kmimepart
+pruint
+newmsgsize
+getserverstateparser
+sizeofmostrecentmessage
+newmsgsize
+newmsgsize
+downloadsize
+downloadsize
+newmsgsize
+whattofetch
+keverythingrfc
+startbyte
+startbyte
+downloadsize
+deathsignalreceived
+getpseudointerrupted
+getserverstateparser
+continueparse
+abortmessagedownload
+pseudointerrupt
+prfalse
+fetchmessage
+messageids
+whattofetch
+idisuid
+part
+nsimapprotocol
+pipelinedfetchmessageparts
+nscstring
+uid
+nsimapmessagepartidarray
+parts
+nscstring
+stringtofetch
+nscstring
+what
+int
+currentpartnum
+parts
+getnumparts
+currentpartnum
+deathsignalreceived
+nsimapmessagepartid
+currentpart
+parts
+getpart
+currentpartnum
+currentpart
+currentpartnum
+stringtofetch
+currentpart
+getfields
+kmimeheader
+what
+body
+what
+currentpart
+getpartnumberstring
+what
+mime
+stringtofetch
+what
+krfcheadersonly
+currentpart
+getpartnumberstring
+what
+body
+what
+currentpart
+getpartnumberstring
+what
+header
+stringtofetch
+what
+stringtofetch
+body
+header
+nsassertion
+prfalse
+we
+should
+only
+be
+pipelining
+mime
+headers
+message
+headers
+currentpartnum
+parts
+getnumparts
+deathsignalreceived
+getpseudointerrupted
+stringtofetch
+get
+incrementcommandtagnumber
+commandstring
+prsmprintf
+uid
+fetch
+getservercommandtag
+uid
+get
+stringtofetch
+get
+crlf
+commandstring
+nsresult
+rv
+senddata
+commandstring
+nssucceeded
+rv
+parseimapandcheckfornewmail
+commandstring
+prfree
+commandstring
+handlememoryfailure
+nsimapprotocol
+addxmozillastatusline
+uint
+statusline
+mozilla
+status
+handlemessagedownloadline
+statusline
+prfalse
+nsimapprotocol
+postlinedownloadevent
+msglineinfo
+downloadlinedontdelete
+nsassertion
+downloadlinedontdelete
+oops
+msg
+line
+info
+good
+getserverstateparser
+getdownloadingheaders
+prbool
+echolinetomessagesink
+prtrue
+mchannellistener
+pruint
+count
+line
+downloadlinedontdelete
+adoptedmessageline
+mchanneloutputstream
+nsresult
+rv
+mchanneloutputstream
+write
+line
+plstrlen
+line
+count
+nssucceeded
+rv
+nscomptr
+nsirequest
+request
+doqueryinterface
+mmockchannel
+mchannellistener
+ondataavailable
+request
+mchannelcontext
+mchannelinputstream
+count
+mimapmessagesink
+mimapmessagesink
+getnotifydownloadedlines
+echolinetomessagesink
+mimapmessagesink
+downloadlinedontdelete
+echolinetomessagesink
+mimapmessagesink
+parseadoptedmsgline
+downloadlinedontdelete
+adoptedmessageline
+downloadlinedontdelete
+uidofmessage
+nsimapprotocol
+handlemessagedownloadline
+line
+prbool
+chunkend
+localmessageline
+prcalloc
+strlen
+line
+localmessageline
+strcpy
+localmessageline
+line
+endofline
+localmessageline
+strlen
+localmessageline
+prbool
+canonicallineending
+prfalse
+nscomptr
+nsimsgmessageurl
+msgurl
+doqueryinterface
+mrunningurl
+mimapaction
+nsiimapurl
+nsimapsavemessagetodisk
+msgurl
+msgurl
+getcanonicallineending
+canonicallineending
+chunkend
+msglinebreaklen
+canonicallineending
+endofline
+localmessageline
+endofline
+nscrt
+cr
+endofline
+nscrt
+lf
+endofline
+msglinebreak
+endofline
+endofline
+localmessageline
+endofline
+msglinebreak
+endofline
+nscrt
+cr
+endofline
+nscrt
+lf
+endofline
+msglinebreak
+endofline
+msglinebreak
+endofline
+endofline
+localmessageline
+endofline
+nscrt
+cr
+endofline
+localmessageline
+endofline
+nscrt
+lf
+endofline
+nscrt
+cr
+endofline
+nscrt
+lf
+endofline
+msglinebreak
+endofline
+msglinebreak
+endofline
+endofline
+msglinebreak
+endofline
+msglinebreak
+endofline
+xsenderinfo
+getserverstateparser
+getxsenderinfo
+xsenderinfo
+xsenderinfo
+mfromheaderseen
+plstrncmp
+from
+localmessageline
+mfromheaderseen
+prtrue
+plstrstr
+localmessageline
+xsenderinfo
+addxmozillastatusline
+getserverstateparser
+freexsenderinfo
+getserverstateparser
+getdownloadingheaders
+mcurhdrinfo
+beginmessagedownload
+getserverstateparser
+sizeofmostrecentmessage
+messagerfc
+mcurhdrinfo
+cacheline
+localmessageline
+getserverstateparser
+currentresponseuid
+prfree
+localmessageline
+mdownloadlinecache
+currentuid
+getserverstateparser
+currentresponseuid
+mdownloadlinecache
+cacheempty
+mdownloadlinecache
+spaceavailable
+plstrlen
+localmessageline
+mdownloadlinecache
+cacheempty
+msglineinfo
+downloadlinedontdelete
+mdownloadlinecache
+getcurrentlineinfo
+postlinedownloadevent
+downloadlinedontdelete
+mdownloadlinecache
+resetcache
+mdownloadlinecache
+spaceavailable
+plstrlen
+localmessageline
+msglineinfo
+downloadinfo
+msglineinfo
+prcalloc
+msglineinfo
+downloadinfo
+downloadinfo
+adoptedmessageline
+localmessageline
+downloadinfo
+uidofmessage
+getserverstateparser
+currentresponseuid
+postlinedownloadevent
+downloadinfo
+deathsignalreceived
+prfree
+downloadinfo
+localmessageline
+mdownloadlinecache
+cacheline
+localmessageline
+getserverstateparser
+currentresponseuid
+prfree
+localmessageline
+nsimapprotocol
+normalmessageenddownload
+log
+stream
+close
+normal
+message
+end
+download
+stream
+mtrackingtime
+adjustchunksize
+mimapmailfoldersink
+getserverstateparser
+getdownloadingheaders
+mcurhdrinfo
+setmsgsize
+getserverstateparser
+sizeofmostrecentmessage
+mhdrdownloadcache
+finishcurrenthdr
+pruint
+numhdrscached
+mhdrdownloadcache
+getnumheaders
+numhdrscached
+numhdrscached
+knumhdrstoxfer
+mimapmailfoldersink
+parsemsghdrs
+mhdrdownloadcache
+mhdrdownloadcache
+resetall
+mdownloadlinecache
+cacheempty
+msglineinfo
+downloadlinedontdelete
+mdownloadlinecache
+getcurrentlineinfo
+postlinedownloadevent
+downloadlinedontdelete
+mdownloadlinecache
+resetcache
+getserverstateparser
+getdownloadingheaders
+mchannellistener
+nsimapaction
+imapaction
+nsiimapurl
+nsimapselectfolder
+mrunningurl
+mrunningurl
+getimapaction
+imapaction
+mimapmessagesink
+mimapmessagesink
+normalendmsgwritestream
+mdownloadlinecache
+currentuid
+imapaction
+nsiimapurl
+nsimapmsgfetch
+mrunningurl
+mrunningurl
+mimapmailfoldersink
+nscomptr
+nsimsgmailnewsurl
+mailurl
+doqueryinterface
+mrunningurl
+mimapmailfoldersink
+endmessage
+mailurl
+mdownloadlinecache
+currentuid
+nsimapprotocol
+abortmessagedownload
+log
+stream
+close
+abort
+message
+download
+stream
+mtrackingtime
+adjustchunksize
+mdownloadlinecache
+cacheempty
+msglineinfo
+downloadlinedontdelete
+mdownloadlinecache
+getcurrentlineinfo
+postlinedownloadevent
+downloadlinedontdelete
+mdownloadlinecache
+resetcache
+getserverstateparser
+getdownloadingheaders
+mimapmailfoldersink
+mimapmailfoldersink
+abortheaderparsestream
+mimapmessagesink
+mimapmessagesink
+abortmsgwritestream
+nsimapprotocol
+processmailboxupdate
+prbool
+handlepossibleundo
+deathsignalreceived
+deathsignalreceived
+boxname
+getselectedmailboxname
+boxname
+getquotadataifsupported
+boxname
+prfree
+boxname
+deathsignalreceived
+getserverstateparser
+numberofmessages
+handlepossibleundo
+nsxpidlcstring
+undoidsstr
+nscautostring
+undoids
+getcurrenturl
+createlistofmessageidsstring
+gettercopies
+undoidsstr
+undoids
+assign
+undoidsstr
+undoids
+isempty
+firstchar
+undoids
+charat
+undoids
+cut
+firstchar
+store
+undoids
+get
+flags
+deleted
+prtrue
+firstchar
+store
+undoids
+get
+flags
+deleted
+prtrue
+nsassertion
+prfalse
+bogus
+undo
+id
+nscstring
+fetchstr
+print
+added
+deleted
+mflagstate
+getnumberofmessages
+added
+deleted
+mflagstate
+getnumberofdeletedmessages
+added
+added
+deleted
+nscstring
+idstofetch
+fetchmessage
+idstofetch
+get
+kflags
+prtrue
+deathsignalreceived
+mflagstate
+getnumberofdeletedmessages
+getdeleteismovetotrash
+mimapaction
+nsiimapurl
+nsimapliteselectfolder
+expunge
+fetchstr
+appendint
+getserverstateparser
+highestrecordeduid
+fetchstr
+append
+fetchmessage
+fetchstr
+get
+kflags
+prtrue
+deathsignalreceived
+getserverstateparser
+resetflaginfo
+deathsignalreceived
+nsimapaction
+imapaction
+nsresult
+res
+mrunningurl
+getimapaction
+imapaction
+nssucceeded
+res
+imapaction
+nsiimapurl
+nsimapliteselectfolder
+nsimapmailboxspec
+newspec
+getserverstateparser
+createcurrentmailboxspec
+newspec
+deathsignalreceived
+deathsignalreceived
+nsimapaction
+imapaction
+nsresult
+res
+mrunningurl
+getimapaction
+imapaction
+nssucceeded
+res
+imapaction
+nsiimapurl
+nsimapexpungefolder
+newspec
+boxflags
+kjustexpunged
+prentermonitor
+mwaitforbodyidsmonitor
+updatedmailboxspec
+newspec
+newspec
+handlememoryfailure
+pruint
+msgidlist
+nsnull
+pruint
+msgcount
+deathsignalreceived
+waitforpotentiallistofmsgstofetch
+msgidlist
+msgcount
+newspec
+prexitmonitor
+mwaitforbodyidsmonitor
+msgidlist
+deathsignalreceived
+getserverstateparser
+lastcommandsuccessful
+folderheaderdump
+msgidlist
+msgcount
+prfree
+msgidlist
+headerfetchcompleted
+deathsignalreceived
+getserverstateparser
+lastcommandsuccessful
+waitforpotentiallistofbodystofetch
+msgidlist
+msgcount
+msgcount
+deathsignalreceived
+getserverstateparser
+lastcommandsuccessful
+foldermsgdump
+msgidlist
+msgcount
+keverythingrfcpeek
+deathsignalreceived
+getserverstateparser
+resetflaginfo
+prfreeif
+newspec
+allocatedpathname
+prfreeif
+newspec
+hostname
+nsifrelease
+newspec
+nsimapprotocol
+updatedmailboxspec
+nsimapmailboxspec
+aspec
+mimapmailfoldersink
+mimapmailfoldersink
+updateimapmailboxinfo
+aspec
+nsimapprotocol
+folderheaderdump
+pruint
+msguids
+pruint
+msgcount
+foldermsgdump
+msguids
+msgcount
+kheadersrfcanduid
+nsimapprotocol
+foldermsgdump
+pruint
+msguids
+pruint
+msgcount
+nsimapefetchfields
+fields
+fields
+kheadersrfcanduid
+setprogressstring
+imapreceivingmessageheadersof
+kflags
+setprogressstring
+imapreceivingmessageflagsof
+setprogressstring
+imapfolderreceivingmessageof
+mprogressindex
+mprogresscount
+msgcount
+foldermsgdumploop
+msguids
+msgcount
+fields
+setprogressstring
+nsimapprotocol
+waitforpotentiallistofmsgstofetch
+pruint
+msgidlist
+pruint
+msgcount
+printervaltime
+sleeptime
+kimapsleeptime
+prentermonitor
+mfetchmsglistmonitor
+mfetchmsglistisnew
+deathsignalreceived
+prwait
+mfetchmsglistmonitor
+sleeptime
+mfetchmsglistisnew
+prfalse
+msgidlist
+mfetchmsgidlist
+msgcount
+mfetchcount
+prexitmonitor
+mfetchmsglistmonitor
+nsimapprotocol
+waitforpotentiallistofbodystofetch
+pruint
+msgidlist
+pruint
+msgcount
+printervaltime
+sleeptime
+kimapsleeptime
+prentermonitor
+mfetchbodylistmonitor
+mfetchbodylistisnew
+deathsignalreceived
+prwait
+mfetchbodylistmonitor
+sleeptime
+mfetchbodylistisnew
+prfalse
+msgidlist
+mfetchbodyidlist
+msgcount
+mfetchbodycount
+prexitmonitor
+mfetchbodylistmonitor
+nsimethodimp
+nsimapprotocol
+notifyhdrstodownload
+pruint
+keys
+pruint
+keycount
+prentermonitor
+mfetchmsglistmonitor
+mfetchmsgidlist
+keys
+mfetchcount
+keycount
+mfetchmsglistisnew
+prtrue
+prnotify
+mfetchmsglistmonitor
+prexitmonitor
+mfetchmsglistmonitor
+nsok
+nsimethodimp
+nsimapprotocol
+notifybodystodownload
+pruint
+keys
+pruint
+keycount
+prentermonitor
+mfetchbodylistmonitor
+prfreeif
+mfetchbodyidlist
+mfetchbodyidlist
+pruint
+prmalloc
+keycount
+pruint
+mfetchbodyidlist
+memcpy
+mfetchbodyidlist
+keys
+keycount
+pruint
+mfetchbodycount
+keycount
+mfetchbodylistisnew
+prtrue
+prnotify
+mfetchbodylistmonitor
+prexitmonitor
+mfetchbodylistmonitor
+nsok
+nsimethodimp
+nsimapprotocol
+getflagsforuid
+pruint
+uid
+prbool
+foundit
+imapmessageflagstype
+resultflags
+customflags
+print
+imapmessageflagstype
+flags
+mflagstate
+getmessageflagsfromuid
+uid
+foundit
+foundit
+resultflags
+flags
+flags
+kimapmsgcustomkeywordflag
+customflags
+mflagstate
+getcustomflags
+uid
+customflags
+nsok
+nsimethodimp
+nsimapprotocol
+getsupporteduserflags
+pruint
+supportedflags
+supportedflags
+nserrornullpointer
+supportedflags
+mflagstate
+getsupporteduserflags
+nsok
+nsimapprotocol
+foldermsgdumploop
+pruint
+msguids
+pruint
+msgcount
+nsimapefetchfields
+fields
+print
+msgcountleft
+msgcount
+pruint
+msgsdownloaded
+print
+khdrstofetchatonce
+nscstring
+idstring
+pruint
+msgstodownload
+msgcountleft
+khdrstofetchatonce
+khdrstofetchatonce
+msgcountleft
+allocateimapuidstring
+msguids
+msgsdownloaded
+msgstodownload
+idstring
+fetchmessage
+idstring
+get
+fields
+prtrue
+msgsdownloaded
+msgstodownload
+msgcountleft
+msgstodownload
+msgcountleft
+deathsignalreceived
+nsimapprotocol
+headerfetchcompleted
+mimapmailfoldersink
+mimapmailfoldersink
+parsemsghdrs
+mhdrdownloadcache
+mhdrdownloadcache
+releaseall
+mimapmiscellaneoussink
+mimapmiscellaneoussink
+headerfetchcompleted
+waitforfeeventcompletion
+nsimapprotocol
+periodicbiff
+nsmsgbiffstate
+startingstate
+mcurrentbiffstate
+getserverstateparser
+getimapstate
+nsimapserverresponseparser
+kfolderselected
+noop
+print
+nummessages
+mflagstate
+getnumberofmessages
+nummessages
+getserverstateparser
+numberofmessages
+nummessages
+pruint
+id
+getserverstateparser
+highestrecordeduid
+nscstring
+fetchstr
+pruint
+added
+deleted
+deleted
+mflagstate
+getnumberofdeletedmessages
+added
+nummessages
+added
+added
+deleted
+id
+fetchstr
+appendint
+id
+fetchstr
+append
+fetchmessage
+fetchstr
+get
+kflags
+prtrue
+pruint
+mflagstate
+gethighestnondeleteduid
+id
+mflagstate
+islastmessageunseen
+mcurrentbiffstate
+nsimsgfolder
+nsmsgbiffstatenewmail
+mcurrentbiffstate
+nsimsgfolder
+nsmsgbiffstatenomail
+mcurrentbiffstate
+nsimsgfolder
+nsmsgbiffstatenomail
+mcurrentbiffstate
+nsimsgfolder
+nsmsgbiffstateunknown
+startingstate
+mcurrentbiffstate
+sendsetbiffindicatorevent
+mcurrentbiffstate
+nsimapprotocol
+sendsetbiffindicatorevent
+nsmsgbiffstate
+newstate
+mimapmiscellaneoussink
+mimapmiscellaneoussink
+setbiffstateandupdate
+newstate
+waitforfeeventcompletion
+prbool
+nsimapprotocol
+checknewmail
+mcheckfornewmaildownloadsheaders
+nsimapprotocol
+log
+logsubname
+extrainfo
+logdata
+prlogtest
+imap
+prlogalways
+nonauthstatename
+na
+authstatename
+selectedstatename
+statename
+hostname
+getimaphostname
+getserverstateparser
+getimapstate
+nsimapserverresponseparser
+kfolderselected
+extrainfo
+prlog
+imap
+prlogalways
+hostname
+selectedstatename
+getserverstateparser
+getselectedmailboxname
+logsubname
+extrainfo
+logdata
+prlog
+imap
+prlogalways
+hostname
+selectedstatename
+getserverstateparser
+getselectedmailboxname
+logsubname
+logdata
+nsimapserverresponseparser
+knonauthenticated
+statename
+nonauthstatename
+nsimapserverresponseparser
+kauthenticated
+statename
+authstatename
+extrainfo
+prlog
+imap
+prlogalways
+hostname
+statename
+logsubname
+extrainfo
+logdata
+prlog
+imap
+prlogalways
+hostname
+statename
+logsubname
+logdata
+pruint
+nsimapprotocol
+getmessagesize
+messageid
+prbool
+idsareuids
+folderfromparser
+getserverstateparser
+getselectedmailboxname
+folderfromparser
+messageid
+id
+prcalloc
+strlen
+messageid
+foldername
+pruint
+size
+plstrcpy
+id
+messageid
+nsimapnamespace
+nsformailbox
+nsnull
+mhostsessionlist
+getnamespaceformailboxforhost
+getimapserverkey
+folderfromparser
+nsformailbox
+nsformailbox
+mrunningurl
+allocatecanonicalpath
+folderfromparser
+nsformailbox
+getdelimiter
+foldername
+mrunningurl
+allocatecanonicalpath
+folderfromparser
+konlinehierarchyseparatorunknown
+foldername
+id
+foldername
+mimapmessagesink
+mimapmessagesink
+getmessagesizefromdb
+id
+idsareuids
+size
+prfreeif
+id
+prfreeif
+foldername
+pruint
+rv
+deathsignalreceived
+rv
+size
+rv
+prbool
+nsimapprotocol
+handlingmultiplemessages
+messageidstring
+plstrchr
+messageidstring
+nsnull
+plstrchr
+messageidstring
+nsnull
+pruint
+nsimapprotocol
+countmessagesinidstring
+idstring
+pruint
+numberofmessages
+uidstring
+plstrdup
+idstring
+uidstring
+curchar
+uidstring
+prbool
+isrange
+prfalse
+print
+curtoken
+print
+savestarttoken
+curcharptr
+uidstring
+curchar
+curcharptr
+currentkeytoken
+curcharptr
+curchar
+curcharptr
+curchar
+curchar
+curchar
+curchar
+curcharptr
+curcharptr
+curtoken
+atol
+currentkeytoken
+isrange
+savestarttoken
+curtoken
+numberofmessages
+savestarttoken
+numberofmessages
+isrange
+curchar
+isrange
+savestarttoken
+curtoken
+prfree
+uidstring
+numberofmessages
+prmonitor
+nsimapprotocol
+getdatamembermonitor
+mdatamembermonitor
+prbool
+nsimapprotocol
+deathsignalreceived
+nsresult
+returnvalue
+nsok
+getpseudointerrupted
+mmockchannel
+nscomptr
+nsirequest
+request
+doqueryinterface
+mmockchannel
+request
+request
+getstatus
+returnvalue
+nssucceeded
+returnvalue
+prentermonitor
+mthreaddeathmonitor
+returnvalue
+mthreadshoulddie
+prexitmonitor
+mthreaddeathmonitor
+returnvalue
+nsimethodimp
+nsimapprotocol
+resettoauthenticatedstate
+getserverstateparser
+preauthsetauthenticatedstate
+nsok
+nsimethodimp
+nsimapprotocol
+getselectedmailboxname
+foldername
+foldername
+nserrornullpointer
+getserverstateparser
+getselectedmailboxname
+foldername
+plstrdup
+getserverstateparser
+getselectedmailboxname
+nsok
+prbool
+nsimapprotocol
+getpseudointerrupted
+prbool
+rv
+prfalse
+prentermonitor
+mpseudointerruptmonitor
+rv
+mpseudointerrupted
+prexitmonitor
+mpseudointerruptmonitor
+rv
+nsimapprotocol
+pseudointerrupt
+prbool
+theinterrupt
+prentermonitor
+mpseudointerruptmonitor
+mpseudointerrupted
+theinterrupt
+theinterrupt
+log
+control
+pseudo
+interrupted
+prexitmonitor
+mpseudointerruptmonitor
+nsimapprotocol
+setactive
+prbool
+active
+prentermonitor
+getdatamembermonitor
+mactive
+active
+prexitmonitor
+getdatamembermonitor
+prbool
+nsimapprotocol
+getactive
+prbool
+ret
+prentermonitor
+getdatamembermonitor
+ret
+mactive
+prexitmonitor
+getdatamembermonitor
+ret
+prbool
+nsimapprotocol
+getshowattachmentsinline
+prbool
+showattachmentsinline
+prtrue
+mimapserversink
+mimapserversink
+getshowattachmentsinline
+showattachmentsinline
+showattachmentsinline
+nsimapprotocol
+setcontentmodified
+imapcontentmodifiedtype
+modified
+mrunningurl
+mimapmessagesink
+mimapmessagesink
+setcontentmodified
+mrunningurl
+modified
+prbool
+nsimapprotocol
+getshouldfetchallparts
+mrunningurl
+deathsignalreceived
+nsimapcontentmodifiedtype
+contentmodified
+nssucceeded
+mrunningurl
+getcontentmodified
+contentmodified
+contentmodified
+imapcontentforcecontentnotmodified
+prtrue
+print
+nsimapprotocol
+opentunnel
+print
+maxnumberofbytestoread
+print
+nsimapprotocol
+gettunnellingthreshold
+prbool
+nsimapprotocol
+getiotunnellingenabled
+prfalse
+nsimapprotocol
+addfolderrightsforuser
+mailboxname
+username
+rights
+nsimapaclrightsinfo
+aclrightsinfo
+nsimapaclrightsinfo
+aclrightsinfo
+nsimapnamespace
+namespaceforfolder
+nsnull
+nsassertion
+mhostsessionlist
+fatal
+host
+session
+list
+mhostsessionlist
+mhostsessionlist
+getnamespaceformailboxforhost
+getimapserverkey
+mailboxname
+namespaceforfolder
+aclrightsinfo
+hostname
+plstrdup
+getimaphostname
+namespaceforfolder
+mrunningurl
+allocatecanonicalpath
+mailboxname
+namespaceforfolder
+getdelimiter
+aclrightsinfo
+mailboxname
+mrunningurl
+allocatecanonicalpath
+mailboxname
+konlinehierarchyseparatorunknown
+aclrightsinfo
+mailboxname
+username
+aclrightsinfo
+username
+plstrdup
+username
+aclrightsinfo
+username
+aclrightsinfo
+rights
+plstrdup
+rights
+aclrightsinfo
+hostname
+aclrightsinfo
+mailboxname
+aclrightsinfo
+rights
+username
+aclrightsinfo
+username
+prtrue
+mimapserversink
+mimapserversink
+addfolderrights
+mailboxname
+username
+rights
+prfree
+aclrightsinfo
+hostname
+prfree
+aclrightsinfo
+mailboxname
+prfree
+aclrightsinfo
+rights
+prfree
+aclrightsinfo
+username
+aclrightsinfo
+handlememoryfailure
+nsimapprotocol
+setcopyresponseuid
+nsmsgkeyarray
+akeyarray
+msgidstring
+mimapextensionsink
+mimapextensionsink
+setcopyresponseuid
+akeyarray
+msgidstring
+mrunningurl
+waitforfeeventcompletion
+nsimapprotocol
+commitnamespacesforhostevent
+mimapserversink
+mimapserversink
+commitnamespaces
+nsimapprotocol
+commitcapability
+mimapserversink
+mimapserversink
+setcapability
+getserverstateparser
+getcapabilityflag
+nsimapprotocol
+clearallfolderrights
+mailboxname
+nsimapnamespace
+nsformailbox
+nsassertion
+nsformailbox
+oops
+name
+space
+nsimapaclrightsinfo
+aclrightsinfo
+nsimapaclrightsinfo
+aclrightsinfo
+hostname
+getimaphostname
+aclrightsinfo
+hostname
+plstrdup
+hostname
+nsformailbox
+mrunningurl
+allocatecanonicalpath
+mailboxname
+nsformailbox
+getdelimiter
+aclrightsinfo
+mailboxname
+mrunningurl
+allocatecanonicalpath
+mailboxname
+konlinehierarchyseparatorunknown
+aclrightsinfo
+mailboxname
+aclrightsinfo
+rights
+aclrightsinfo
+username
+aclrightsinfo
+hostname
+aclrightsinfo
+mailboxname
+mimapextensionsink
+mimapextensionsink
+clearfolderrights
+aclrightsinfo
+waitforfeeventcompletion
+prfree
+aclrightsinfo
+hostname
+prfree
+aclrightsinfo
+mailboxname
+aclrightsinfo
+handlememoryfailure
+nsimapprotocol
+createnewlinefromsocket
+prbool
+needmoredata
+prfalse
+newline
+nsnull
+pruint
+numbytesinline
+meventqueue
+processpendingevents
+newline
+minputstreambuffer
+readnextline
+minputstream
+numbytesinline
+needmoredata
+prlog
+imap
+prlogdebug
+readnextline
+stream
+nb
+needmore
+minputstream
+get
+numbytesinline
+needmoredata
+needmoredata
+setflag
+imapwaitingfordata
+mpump
+mpumpsuspended
+mpump
+resume
+mpumpsuspended
+prfalse
+numbytesinline
+prsleep
+prmillisecondstointerval
+meventqueue
+processpendingevents
+testflag
+imapwaitingfordata
+deathsignalreceived
+newline
+deathsignalreceived
+log
+createnewlinefromsocket
+nsnull
+newline
+setconnectionstatus
+newline
+numbytesinline
+newline
+print
+nsimapprotocol
+getconnectionstatus
+print
+status
+status
+mconnectionstatus
+status
+nsimapprotocol
+setconnectionstatus
+print
+status
+mconnectionstatus
+status
+nsimapprotocol
+notifymessageflags
+imapmessageflagstype
+flags
+nsmsgkey
+key
+mimapmessagesink
+mimapaction
+nsiimapurl
+nsimapselectfolder
+mimapaction
+nsiimapurl
+nsimapmsgfetch
+flags
+kimapmsgrecentflag
+kimapmsgseenflag
+mimapmessagesink
+notifymessageflags
+flags
+key
+nsimapprotocol
+notifysearchhit
+hitline
+nsresult
+rv
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+rv
+mimapmailfoldersink
+mimapmailfoldersink
+notifysearchhit
+mailnewsurl
+hitline
+nsimapprotocol
+setmailboxdiscoverystatus
+emailboxdiscoverstatus
+status
+prentermonitor
+getdatamembermonitor
+mdiscoverystatus
+status
+prexitmonitor
+getdatamembermonitor
+emailboxdiscoverstatus
+nsimapprotocol
+getmailboxdiscoverystatus
+emailboxdiscoverstatus
+returnstatus
+prentermonitor
+getdatamembermonitor
+returnstatus
+mdiscoverystatus
+prexitmonitor
+getdatamembermonitor
+returnstatus
+prbool
+nsimapprotocol
+getsubscribingnow
+prfalse
+nsimapprotocol
+discovermailboxspec
+nsimapmailboxspec
+adoptedboxspec
+nsimapnamespace
+ns
+nsnull
+nsassertion
+mhostsessionlist
+fatal
+host
+session
+list
+mhostsessionlist
+mhostsessionlist
+getdefaultnamespaceoftypeforhost
+getimapserverkey
+kpersonalnamespace
+ns
+nsprefix
+ns
+ns
+getprefix
+mhierarchynamestate
+klistingforcreate
+knooperationinprogress
+kdiscovertrashfolderinprogress
+klistingforinfoanddiscovery
+ns
+nsprefix
+prbool
+onlinetrashfolderexists
+prfalse
+mhostsessionlist
+mhostsessionlist
+getonlinetrashfolderexistsforhost
+getimapserverkey
+onlinetrashfolderexists
+getdeleteismovetotrash
+onlinetrashfolderexists
+plstrstr
+adoptedboxspec
+allocatedpathname
+gettrashfoldername
+prbool
+trashexists
+prfalse
+nscstring
+trashmatch
+createpossibletrashname
+nsprefix
+servertrashname
+nsnull
+mrunningurl
+allocatecanonicalpath
+trashmatch
+get
+ns
+getdelimiter
+servertrashname
+servertrashname
+plstrncasecmp
+servertrashname
+inbox
+trashexists
+plstrncasecmp
+adoptedboxspec
+allocatedpathname
+servertrashname
+plstrcmp
+adoptedboxspec
+allocatedpathname
+servertrashname
+trashexists
+plstrcmp
+servertrashname
+adoptedboxspec
+allocatedpathname
+mhostsessionlist
+mhostsessionlist
+setonlinetrashfolderexistsforhost
+getimapserverkey
+trashexists
+prfree
+servertrashname
+trashexists
+adoptedboxspec
+boxflags
+kimaptrash
+adoptedboxspec
+allocatedpathname
+adoptedboxspec
+allocatedpathname
+nscstring
+boxnamecopy
+boxnamecopy
+adoptedboxspec
+allocatedpathname
+mhierarchynamestate
+klistingforcreate
+adoptedboxspec
+boxflags
+knewlycreatedfolder
+mimapserversink
+prbool
+newfolder
+mimapserversink
+possibleimapmailbox
+boxnamecopy
+get
+adoptedboxspec
+hierarchyseparator
+adoptedboxspec
+boxflags
+newfolder
+newfolder
+setmailboxdiscoverystatus
+econtinuenew
+prbool
+usesubscription
+prfalse
+mhostsessionlist
+mhostsessionlist
+gethostisusingsubscription
+getimapserverkey
+usesubscription
+getmailboxdiscoverystatus
+econtinue
+getmailboxdiscoverystatus
+econtinuenew
+getmailboxdiscoverystatus
+elistmychildren
+setconnectionstatus
+boxnamecopy
+isempty
+getmailboxdiscoverystatus
+elistmychildren
+usesubscription
+getsubscribingnow
+nsassertion
+prfalse
+we
+should
+never
+get
+here
+anymore
+setmailboxdiscoverystatus
+econtinue
+getmailboxdiscoverystatus
+econtinuenew
+mhierarchynamestate
+klistingforinfoanddiscovery
+boxnamecopy
+isempty
+adoptedboxspec
+boxflags
+knamespace
+nsimapmailboxinfo
+mb
+nsimapmailboxinfo
+boxnamecopy
+get
+adoptedboxspec
+hierarchyseparator
+mlistedmailboxlist
+appendelement
+mb
+setmailboxdiscoverystatus
+econtinue
+nsifrelease
+adoptedboxspec
+kdiscoverbasefolderinprogress
+kdeletesubfoldersinprogress
+nsassertion
+mdeletablechildren
+oops
+mdeletablechildren
+mdeletablechildren
+appendelement
+nscrt
+strdup
+adoptedboxspec
+allocatedpathname
+prfreeif
+adoptedboxspec
+hostname
+nsifrelease
+adoptedboxspec
+klistingforinfoonly
+progresseventfunctionusingidwithstring
+imapdiscoveringmailbox
+adoptedboxspec
+allocatedpathname
+nsimapmailboxinfo
+mb
+nsimapmailboxinfo
+adoptedboxspec
+allocatedpathname
+adoptedboxspec
+hierarchyseparator
+mlistedmailboxlist
+appendelement
+mb
+prfreeif
+adoptedboxspec
+allocatedpathname
+nsifrelease
+adoptedboxspec
+kdiscoveringnamespacesonly
+prfreeif
+adoptedboxspec
+allocatedpathname
+nsifrelease
+adoptedboxspec
+nsassertion
+prfalse
+we
+aren
+supposed
+to
+be
+here
+nsimapprotocol
+alertusereventusingid
+pruint
+amessageid
+mimapserversink
+prbool
+suppresserrormsg
+prfalse
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+mailnewsurl
+getsuppresserrormsgs
+suppresserrormsg
+suppresserrormsg
+prunichar
+progressstring
+nsnull
+mimapserversink
+formatstringwithhostnamebyid
+amessageid
+progressstring
+nscomptr
+nsimsgwindow
+msgwindow
+getmsgwindow
+getteraddrefs
+msgwindow
+mimapserversink
+fealert
+progressstring
+msgwindow
+prfree
+progressstring
+nsimapprotocol
+alertuserevent
+message
+mimapserversink
+nscomptr
+nsimsgwindow
+msgwindow
+getmsgwindow
+getteraddrefs
+msgwindow
+mimapserversink
+fealert
+nsconvertasciitoucs
+message
+get
+msgwindow
+nsimapprotocol
+alertusereventfromserver
+aserverevent
+mimapserversink
+nscomptr
+nsimsgwindow
+msgwindow
+getmsgwindow
+getteraddrefs
+msgwindow
+mimapserversink
+fealertfromserver
+aserverevent
+msgwindow
+nsimapprotocol
+resetprogressinfo
+llil
+mlastprogresstime
+mlastpercent
+mlastprogressstringid
+pruint
+nsimapprotocol
+setprogressstring
+print
+stringid
+mprogressstringid
+stringid
+mprogressstringid
+mimapserversink
+mimapserversink
+getimapstringbyid
+stringid
+gettercopies
+mprogressstring
+nsimapprotocol
+showprogress
+mprogressstring
+mprogressstringid
+prunichar
+progressstring
+nscautostring
+cprogressstring
+cprogressstring
+assignwithconversion
+mprogressstring
+mailboxname
+getserverstateparser
+getselectedmailboxname
+nsxpidlstring
+unicodemailboxname
+nsresult
+rv
+createunicodestringfromutf
+mailboxname
+gettercopies
+unicodemailboxname
+nssucceeded
+rv
+progressstring
+nstextformatter
+smprintf
+mprogressstring
+prunichar
+unicodemailboxname
+mprogressindex
+mprogresscount
+progressstring
+percentprogressupdateevent
+progressstring
+mprogressindex
+mprogresscount
+nstextformatter
+smprintffree
+progressstring
+nsimapprotocol
+progresseventfunctionusingid
+pruint
+amsgid
+mimapmiscellaneoussink
+amsgid
+mlastprogressstringid
+mimapmiscellaneoussink
+progressstatus
+amsgid
+nsnull
+mlastprogressstringid
+amsgid
+nsimapprotocol
+progresseventfunctionusingidwithstring
+pruint
+amsgid
+aextrainfo
+mimapmiscellaneoussink
+nsxpidlstring
+unicodestr
+nsresult
+rv
+createunicodestringfromutf
+aextrainfo
+gettercopies
+unicodestr
+nssucceeded
+rv
+mimapmiscellaneoussink
+progressstatus
+amsgid
+unicodestr
+nsimapprotocol
+percentprogressupdateevent
+prunichar
+message
+print
+currentprogress
+print
+maxprogress
+print
+nowms
+llzero
+print
+percent
+currentprogress
+maxprogress
+percent
+mlastpercent
+percent
+int
+minintervalbetweenprogress
+llil
+minintervalbetweenprogress
+int
+diffsincelastprogress
+llil
+nowms
+printervaltomilliseconds
+printervalnow
+llsub
+diffsincelastprogress
+nowms
+mlastprogresstime
+llsub
+diffsincelastprogress
+diffsincelastprogress
+minintervalbetweenprogress
+llgezero
+diffsincelastprogress
+progressinfo
+aprogressinfo
+aprogressinfo
+message
+message
+aprogressinfo
+currentprogress
+currentprogress
+aprogressinfo
+maxprogress
+maxprogress
+mlastpercent
+percent
+mlastprogresstime
+nowms
+mimapmiscellaneoussink
+mimapmiscellaneoussink
+percentprogress
+aprogressinfo
+prunichar
+nsimapprotocol
+createprunicharstringfromutf
+asourcestring
+prunichar
+convertedstring
+nsresult
+res
+nscomptr
+nsicharsetconvertermanager
+ccm
+dogetservice
+kcharsetconvertermanagercid
+res
+nssucceeded
+res
+nsnull
+ccm
+prunichar
+unichars
+nsnull
+print
+unicharlength
+nsiunicodedecoder
+decoder
+nsnull
+res
+ccm
+getunicodedecoderraw
+imap
+modified
+utf
+decoder
+nssucceeded
+res
+nsnull
+decoder
+print
+srclen
+plstrlen
+asourcestring
+res
+decoder
+getmaxlength
+asourcestring
+srclen
+unicharlength
+unichars
+prunichar
+unicharlength
+unichars
+nsnull
+res
+nserroroutofmemory
+res
+decoder
+convert
+asourcestring
+srclen
+unichars
+unicharlength
+unichars
+unicharlength
+nsifrelease
+decoder
+nsstring
+unicodestr
+unichars
+convertedstring
+tonewunicode
+unicodestr
+convertedstring
+nsimapprotocol
+store
+messagelist
+messagedata
+prbool
+idsareuid
+incrementcommandtagnumber
+formatstring
+idsareuid
+formatstring
+uid
+store
+formatstring
+store
+mcloseneededbeforeselect
+getdeleteismovetotrash
+plstrcasestr
+messagedata
+deleted
+commandtag
+getservercommandtag
+protocolstringsize
+plstrlen
+formatstring
+plstrlen
+messagelist
+plstrlen
+messagedata
+plstrlen
+commandtag
+protocolstring
+prcalloc
+protocolstringsize
+protocolstring
+prsnprintf
+protocolstring
+protocolstringsize
+formatstring
+commandtag
+messagelist
+messagedata
+nsresult
+rv
+senddata
+protocolstring
+nssucceeded
+rv
+mflagchangecount
+parseimapandcheckfornewmail
+protocolstring
+getserverstateparser
+lastcommandsuccessful
+checkneeded
+check
+prfree
+protocolstring
+handlememoryfailure
+nsimapprotocol
+issueuserdefinedmsgcommand
+command
+messagelist
+incrementcommandtagnumber
+formatstring
+formatstring
+uid
+commandtag
+getservercommandtag
+protocolstringsize
+plstrlen
+formatstring
+plstrlen
+messagelist
+plstrlen
+command
+plstrlen
+commandtag
+protocolstring
+prcalloc
+protocolstringsize
+protocolstring
+prsnprintf
+protocolstring
+protocolstringsize
+formatstring
+commandtag
+command
+messagelist
+nsresult
+rv
+senddata
+protocolstring
+nssucceeded
+rv
+parseimapandcheckfornewmail
+protocolstring
+prfree
+protocolstring
+handlememoryfailure
+nsimapprotocol
+uidexpunge
+messageset
+incrementcommandtagnumber
+nscstring
+command
+getservercommandtag
+command
+append
+uid
+expunge
+command
+append
+messageset
+command
+append
+crlf
+nsresult
+rv
+senddata
+command
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+nsimapprotocol
+expunge
+progresseventfunctionusingid
+imapstatusexpungingmailbox
+incrementcommandtagnumber
+nscstring
+command
+getservercommandtag
+command
+append
+expunge
+crlf
+nsresult
+rv
+senddata
+command
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+nsimapprotocol
+handlememoryfailure
+prcentermonitor
+prcexitmonitor
+nsimapprotocol
+handlecurrenturlerror
+ifdef
+unreadycode
+fcurrenturl
+getimapurltype
+timapurl
+kselectfolder
+nsimapmailboxspec
+notselectedspec
+nsimapmailboxspec
+notselectedspec
+nsaddref
+notselectedspec
+notselectedspec
+allocatedpathname
+fcurrenturl
+createcanonicalsourcefolderpathstring
+notselectedspec
+hostname
+fcurrenturl
+geturlhost
+notselectedspec
+folderselected
+prfalse
+notselectedspec
+flagstate
+notselectedspec
+onlineverified
+prfalse
+updatedmailboxspec
+notselectedspec
+endif
+nsresult
+res
+res
+mrunningurl
+getimapaction
+mimapaction
+mimapaction
+nsiimapurl
+nsimapofflinetoonlinemove
+mimapaction
+nsiimapurl
+nsimapappendmsgfromfile
+mimapaction
+nsiimapurl
+nsimapappenddraftfromfile
+mimapmailfoldersink
+mimapmailfoldersink
+onlinecopycompleted
+imaponlinecopystatetype
+kfailedcopy
+nsimapprotocol
+capability
+progresseventfunctionusingid
+imapstatuscheckcompat
+incrementcommandtagnumber
+nscstring
+command
+getservercommandtag
+command
+append
+capability
+crlf
+nsresult
+rv
+senddata
+command
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+nsimapprotocol
+language
+testflag
+imapissuedlanguagerequest
+setflag
+imapissuedlanguagerequest
+progresseventfunctionusingid
+imapstatuscheckcompat
+incrementcommandtagnumber
+nscstring
+command
+getservercommandtag
+nsresult
+rv
+nsok
+macceptlanguages
+get
+nscautostring
+extractedlanguage
+extractedlanguage
+assignwithconversion
+macceptlanguages
+get
+print
+pos
+extractedlanguage
+findchar
+pos
+extractedlanguage
+truncate
+pos
+extractedlanguage
+isempty
+command
+append
+language
+command
+append
+extractedlanguage
+command
+append
+crlf
+rv
+senddata
+command
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+nsnull
+prtrue
+nsimapprotocol
+escapeusernamepasswordstring
+strtoescape
+nscstring
+resultstr
+strtoescape
+pruint
+pruint
+escapestrlen
+strlen
+strtoescape
+escapestrlen
+strtoescape
+strtoescape
+resultstr
+append
+resultstr
+append
+strtoescape
+nsimapprotocol
+insecurelogin
+username
+password
+progresseventfunctionusingid
+imapstatussendinglogin
+incrementcommandtagnumber
+nscstring
+command
+getservercommandtag
+nscautostring
+escapedusername
+command
+append
+login
+escapeusernamepasswordstring
+username
+escapedusername
+command
+append
+escapedusername
+command
+append
+nscautostring
+correctedpassword
+escapeusernamepasswordstring
+password
+correctedpassword
+command
+append
+correctedpassword
+command
+append
+crlf
+nsresult
+rv
+senddata
+command
+get
+prtrue
+nssucceeded
+rv
+parseimapandcheckfornewmail
+nsimapprotocol
+authlogin
+username
+password
+eimapcapabilityflag
+flag
+progresseventfunctionusingid
+imapstatussendingauthlogin
+incrementcommandtagnumber
+currentcommand
+nsnull
+nsresult
+rv
+musesecauth
+flag
+khascramcapability
+nsresult
+rv
+digest
+nscautostring
+command
+getservercommandtag
+command
+append
+authenticate
+cram
+md
+crlf
+rv
+senddata
+command
+get
+parseimapandcheckfornewmail
+getserverstateparser
+lastcommandsuccessful
+cramdigest
+getserverstateparser
+fcramdigest
+decodedchallenge
+plbasedecode
+cramdigest
+strlen
+cramdigest
+nsnull
+mimapserversink
+rv
+mimapserversink
+crammdhash
+decodedchallenge
+password
+digest
+prfree
+decodedchallenge
+nssucceeded
+rv
+digest
+nscautostring
+encodeddigest
+hexval
+pruint
+prsnprintf
+hexval
+xff
+digest
+encodeddigest
+append
+hexval
+prsnprintf
+mdataoutputbuf
+outputbuffersize
+username
+encodeddigest
+get
+basestr
+plbaseencode
+mdataoutputbuf
+nscrt
+strlen
+mdataoutputbuf
+nsnull
+prsnprintf
+mdataoutputbuf
+outputbuffersize
+crlf
+basestr
+prfree
+basestr
+rv
+senddata
+mdataoutputbuf
+nssucceeded
+rv
+parseimapandcheckfornewmail
+command
+get
+getserverstateparser
+lastcommandsuccessful
+prfree
+digest
+flag
+khasauthplaincapability
+prsnprintf
+mdataoutputbuf
+outputbuffersize
+authenticate
+plain
+crlf
+getservercommandtag
+rv
+senddata
+mdataoutputbuf
+nsfailed
+rv
+currentcommand
+plstrdup
+mdataoutputbuf
+parseimapandcheckfornewmail
+getserverstateparser
+lastcommandsuccessful
+plainstr
+len
+memset
+plainstr
+prsnprintf
+plainstr
+username
+len
+plstrlen
+username
+len
+prsnprintf
+plainstr
+len
+len
+password
+len
+plstrlen
+password
+basestr
+plbaseencode
+plainstr
+len
+nsnull
+basestr
+prsnprintf
+mdataoutputbuf
+outputbuffersize
+crlf
+basestr
+prfree
+basestr
+rv
+senddata
+mdataoutputbuf
+prtrue
+nssucceeded
+rv
+parseimapandcheckfornewmail
+currentcommand
+getserverstateparser
+lastcommandsuccessful
+prfree
+currentcommand
+flag
+khasauthlogincapability
+prsnprintf
+mdataoutputbuf
+outputbuffersize
+authenticate
+login
+crlf
+getservercommandtag
+rv
+senddata
+mdataoutputbuf
+nsfailed
+rv
+currentcommand
+plstrdup
+mdataoutputbuf
+parseimapandcheckfornewmail
+getserverstateparser
+lastcommandsuccessful
+basestr
+plbaseencode
+username
+plstrlen
+username
+nsnull
+basestr
+prsnprintf
+mdataoutputbuf
+outputbuffersize
+crlf
+basestr
+prfree
+basestr
+rv
+senddata
+mdataoutputbuf
+prtrue
+nssucceeded
+rv
+parseimapandcheckfornewmail
+currentcommand
+getserverstateparser
+lastcommandsuccessful
+basestr
+plbaseencode
+password
+plstrlen
+password
+nsnull
+prsnprintf
+mdataoutputbuf
+outputbuffersize
+crlf
+basestr
+prfreeif
+basestr
+rv
+senddata
+mdataoutputbuf
+prtrue
+nssucceeded
+rv
+parseimapandcheckfornewmail
+currentcommand
+getserverstateparser
+lastcommandsuccessful
+prfreeif
+currentcommand
+insecurelogin
+username
+password
+prfree
+currentcommand
+nsimapprotocol
+onlsubfolders
+mailboxname
+oncreateserversourcefolderpathstring
+mailboxname
+progresseventfunctionusingid
+imapstatuslookingformailbox
+incrementcommandtagnumber
+prsnprintf
+mdataoutputbuf
+outputbuffersize
+list
+crlf
+getservercommandtag
+mailboxname
+nsresult
+rv
+senddata
+mdataoutputbuf
+ifdef
+unreadycode
+timestamplistnow
+endif
+nssucceeded
+rv
+parseimapandcheckfornewmail
+prfree
+mailboxname
+handlememoryfailure
+nsimapprotocol
+onappendmsgfromfile
+nscomptr
+nsifilespec
+filespec
+nsresult
+rv
+nsok
+rv
+mrunningurl
+getmsgfilespec
+getteraddrefs
+filespec
+nssucceeded
+rv
+filespec
+mailboxname
+oncreateserversourcefolderpathstring
+mailboxname
+imapmessageflagstype
+flagstoset
+kimapmsgseenflag
+pruint
+msgflags
+msgflagread
+mimapmessagesink
+mimapmessagesink
+getcurmovecopymessageflags
+mrunningurl
+msgflags
+msgflags
+msgflagread
+flagstoset
+kimapmsgseenflag
+msgflags
+msgflagmdnreportsent
+flagstoset
+kimapmsgmdnsentflag
+uploadmessagefromfile
+filespec
+mailboxname
+flagstoset
+prfree
+mailboxname
+handlememoryfailure
+nsimapprotocol
+uploadmessagefromfile
+nsifilespec
+filespec
+mailboxname
+imapmessageflagstype
+flags
+filespec
+mailboxname
+incrementcommandtagnumber
+pruint
+filesize
+print
+totalsize
+pruint
+readcount
+databuffer
+nsnull
+nscstring
+command
+getservercommandtag
+escapedname
+createescapedmailboxname
+mailboxname
+nsresult
+rv
+prbool
+eof
+prfalse
+nscstring
+flagstring
+prbool
+hasliteralplus
+getserverstateparser
+getcapabilityflag
+kliteralpluscapability
+nscomptr
+nsiinputstream
+fileinputstream
+escapedname
+command
+append
+append
+command
+append
+escapedname
+command
+append
+setupmessageflagsstring
+flagstring
+flags
+getserverstateparser
+supportsuserflags
+command
+append
+flagstring
+command
+append
+databuffer
+prcalloc
+copybuffersize
+databuffer
+done
+rv
+filespec
+getfilesize
+filesize
+nsfailed
+rv
+done
+rv
+filespec
+getinputstream
+getteraddrefs
+fileinputstream
+nsfailed
+rv
+fileinputstream
+done
+command
+appendint
+print
+filesize
+hasliteralplus
+command
+append
+crlf
+command
+append
+crlf
+rv
+senddata
+command
+get
+nsfailed
+rv
+done
+hasliteralplus
+parseimapandcheckfornewmail
+totalsize
+filesize
+readcount
+nssucceeded
+rv
+eof
+totalsize
+rv
+fileinputstream
+read
+databuffer
+copybuffersize
+readcount
+nssucceeded
+rv
+nsassertion
+readcount
+pruint
+totalsize
+got
+more
+bytes
+than
+there
+should
+be
+databuffer
+readcount
+rv
+senddata
+databuffer
+totalsize
+readcount
+rv
+filespec
+eof
+eof
+nssucceeded
+rv
+rv
+senddata
+crlf
+parseimapandcheckfornewmail
+command
+get
+nsimapaction
+imapaction
+mrunningurl
+getimapaction
+imapaction
+getserverstateparser
+lastcommandsuccessful
+imapaction
+nsiimapurl
+nsimapappenddraftfromfile
+imapaction
+nsiimapurl
+nsimapappendmsgfromfile
+getserverstateparser
+getcapabilityflag
+kuidpluscapability
+nsmsgkey
+newkey
+getserverstateparser
+currentresponseuid
+mimapextensionsink
+mimapextensionsink
+setappendmsguid
+newkey
+mrunningurl
+waitforfeeventcompletion
+nsxpidlcstring
+oldmsgid
+rv
+mrunningurl
+createlistofmessageidsstring
+gettercopies
+oldmsgid
+nssucceeded
+rv
+oldmsgid
+isempty
+prbool
+idsareuids
+prtrue
+mrunningurl
+messageidsareuids
+idsareuids
+store
+oldmsgid
+flags
+deleted
+idsareuids
+uidexpunge
+oldmsgid
+mimapextensionsink
+imapaction
+nsiimapurl
+nsimapappenddraftfromfile
+autosubscribetomailboxifnecessary
+mailboxname
+nscstring
+messageid
+rv
+mimapextensionsink
+getmessageid
+messageid
+mrunningurl
+waitforfeeventcompletion
+nssucceeded
+rv
+messageid
+isempty
+getserverstateparser
+lastcommandsuccessful
+getserverstateparser
+getselectedmailboxname
+plstrcmp
+getserverstateparser
+getselectedmailboxname
+mailboxname
+selectmailbox
+mailboxname
+getserverstateparser
+lastcommandsuccessful
+command
+search
+seen
+header
+message
+id
+command
+append
+messageid
+getserverstateparser
+resetsearchresultsequence
+search
+command
+get
+prtrue
+prfalse
+getserverstateparser
+lastcommandsuccessful
+nsmsgkey
+newkey
+nsmsgkeynone
+nsimapsearchresultiterator
+searchresult
+getserverstateparser
+createsearchresultiterator
+newkey
+searchresult
+getnextmessagenumber
+searchresult
+newkey
+nsmsgkeynone
+mimapextensionsink
+setappendmsguid
+newkey
+mrunningurl
+waitforfeeventcompletion
+done
+prfree
+databuffer
+filespec
+closestream
+nsmemory
+free
+escapedname
+nsimapprotocol
+oncreateserversourcefolderpathstring
+sourcemailbox
+nsnull
+hierarchydelimiter
+onlinedelimiter
+nsnull
+mrunningurl
+getonlinesubdirseparator
+hierarchydelimiter
+mimapmailfoldersink
+mimapmailfoldersink
+getonlinedelimiter
+onlinedelimiter
+onlinedelimiter
+onlinedelimiter
+konlinehierarchyseparatorunknown
+onlinedelimiter
+hierarchydelimiter
+mrunningurl
+setonlinesubdirseparator
+onlinedelimiter
+onlinedelimiter
+nscrt
+free
+onlinedelimiter
+mrunningurl
+createserversourcefolderpathstring
+sourcemailbox
+sourcemailbox
+nsresult
+nsimapprotocol
+createserversourcefolderpathstring
+result
+nsensurearg
+result
+result
+oncreateserversourcefolderpathstring
+result
+nsok
+nserroroutofmemory
+nsimapprotocol
+oncreateserverdestinationfolderpathstring
+destinationmailbox
+nsnull
+hierarchydelimiter
+onlinedelimiter
+nsnull
+mrunningurl
+getonlinesubdirseparator
+hierarchydelimiter
+mimapmailfoldersink
+mimapmailfoldersink
+getonlinedelimiter
+onlinedelimiter
+onlinedelimiter
+onlinedelimiter
+konlinehierarchyseparatorunknown
+onlinedelimiter
+hierarchydelimiter
+mrunningurl
+setonlinesubdirseparator
+onlinedelimiter
+onlinedelimiter
+nscrt
+free
+onlinedelimiter
+mrunningurl
+createserverdestinationfolderpathstring
+destinationmailbox
+destinationmailbox
+nsimapprotocol
+oncreatefolder
+asourcemailbox
+prbool
+created
+createmailboxrespectingsubscriptions
+asourcemailbox
+created
+mhierarchynamestate
+klistingforcreate
+list
+asourcemailbox
+prfalse
+mhierarchynamestate
+knooperationinprogress
+foldernotcreated
+asourcemailbox
+nsimapprotocol
+onensureexistsfolder
+asourcemailbox
+list
+asourcemailbox
+prfalse
+prbool
+exists
+prfalse
+nsimapnamespace
+nsformailbox
+nsnull
+mhostsessionlist
+getnamespaceformailboxforhost
+getimapserverkey
+asourcemailbox
+nsformailbox
+nsxpidlcstring
+name
+nsformailbox
+mrunningurl
+allocatecanonicalpath
+asourcemailbox
+nsformailbox
+getdelimiter
+gettercopies
+name
+mrunningurl
+allocatecanonicalpath
+asourcemailbox
+konlinehierarchyseparatorunknown
+gettercopies
+name
+mimapserversink
+mimapserversink
+folderverifiedonline
+name
+exists
+exists
+subscribe
+asourcemailbox
+prbool
+created
+createmailboxrespectingsubscriptions
+asourcemailbox
+created
+list
+asourcemailbox
+prfalse
+getserverstateparser
+lastcommandsuccessful
+foldernotcreated
+asourcemailbox
+nsimapprotocol
+onsubscribe
+sourcemailbox
+subscribe
+sourcemailbox
+nsimapprotocol
+onunsubscribe
+sourcemailbox
+prbool
+lastreportingerrors
+getserverstateparser
+getreportingerrors
+getserverstateparser
+setreportingerrors
+prfalse
+unsubscribe
+sourcemailbox
+getserverstateparser
+setreportingerrors
+lastreportingerrors
+nsimapprotocol
+refreshaclforfolderifnecessary
+mailboxname
+getserverstateparser
+serverhasaclcapability
+mfolderneedsaclrefreshed
+mimapmailfoldersink
+mimapmailfoldersink
+getfolderneedsacllisted
+mfolderneedsaclrefreshed
+mfolderneedsaclrefreshed
+refreshaclforfolder
+mailboxname
+mfolderneedsaclrefreshed
+prfalse
+nsimapprotocol
+refreshaclforfolder
+mailboxname
+nsimapnamespace
+ns
+nsnull
+mhostsessionlist
+getnamespaceformailboxforhost
+getimapserverkey
+mailboxname
+ns
+ns
+ns
+gettype
+kpersonalnamespace
+clearallfolderrights
+mailboxname
+ns
+getaclforfolder
+mailboxname
+refreshfolderaclview
+mailboxname
+ns
+clearallfolderrights
+mailboxname
+ns
+getmyrightsforfolder
+mailboxname
+refreshfolderaclview
+mailboxname
+ns
+nsassertion
+prfalse
+couldn
+get
+nsimapprotocol
+refreshfolderaclview
+mailboxname
+nsimapnamespace
+nsformailbox
+nsxpidlcstring
+canonicalmailboxname
+nsformailbox
+mrunningurl
+allocatecanonicalpath
+mailboxname
+nsformailbox
+getdelimiter
+gettercopies
+canonicalmailboxname
+mrunningurl
+allocatecanonicalpath
+mailboxname
+konlinehierarchyseparatorunknown
+gettercopies
+canonicalmailboxname
+mimapserversink
+mimapserversink
+refreshfolderrights
+canonicalmailboxname
+nsimapprotocol
+getaclforfolder
+mailboxname
+incrementcommandtagnumber
+nscstring
+command
+getservercommandtag
+escapedname
+createescapedmailboxname
+mailboxname
+command
+append
+getacl
+command
+append
+escapedname
+command
+append
+crlf
+nsmemory
+free
+escapedname
+nsresult
+rv
+senddata
+command
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+nsimapprotocol
+onrefreshallacls
+mhierarchynamestate
+klistingforinfoonly
+nsimapmailboxinfo
+mb
+list
+prtrue
+print
+total
+mlistedmailboxlist
+count
+count
+getserverstateparser
+setreportingerrors
+prfalse
+print
+total
+mb
+nsimapmailboxinfo
+mlistedmailboxlist
+elementat
+mb
+onlinename
+nsnull
+mrunningurl
+allocateserverpath
+mb
+getmailboxname
+mb
+getdelimiter
+onlinename
+onlinename
+refreshaclforfolder
+onlinename
+nscrt
+free
+onlinename
+percentprogressupdateevent
+count
+total
+mb
+count
+mlistedmailboxlist
+clear
+percentprogressupdateevent
+getserverstateparser
+setreportingerrors
+prtrue
+mhierarchynamestate
+knooperationinprogress
+nsimapprotocol
+logout
+progresseventfunctionusingid
+imapstatusloggingout
+incrementcommandtagnumber
+nscstring
+command
+getservercommandtag
+command
+append
+logout
+crlf
+nsresult
+rv
+senddata
+command
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+nsimapprotocol
+noop
+incrementcommandtagnumber
+nscstring
+command
+getservercommandtag
+command
+append
+noop
+crlf
+nsresult
+rv
+senddata
+command
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+nsimapprotocol
+xserverinfo
+progresseventfunctionusingid
+imapgettingserverinfo
+incrementcommandtagnumber
+nscstring
+command
+getservercommandtag
+command
+append
+xserverinfo
+manageaccounturl
+managelistsurl
+managefiltersurl
+crlf
+nsresult
+rv
+senddata
+command
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+nsimapprotocol
+netscape
+progresseventfunctionusingid
+imapgettingserverinfo
+incrementcommandtagnumber
+nscstring
+command
+getservercommandtag
+command
+append
+netscape
+crlf
+nsresult
+rv
+senddata
+command
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+nsimapprotocol
+xmailboxinfo
+mailboxname
+progresseventfunctionusingid
+imapgettingmailboxinfo
+incrementcommandtagnumber
+nscstring
+command
+getservercommandtag
+command
+append
+xmailboxinfo
+command
+append
+mailboxname
+command
+append
+manageurl
+posturl
+crlf
+nsresult
+rv
+senddata
+command
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+nsimapprotocol
+namespace
+incrementcommandtagnumber
+nscstring
+command
+getservercommandtag
+command
+append
+crlf
+nsresult
+rv
+senddata
+command
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+nsimapprotocol
+mailboxdata
+incrementcommandtagnumber
+nscstring
+command
+getservercommandtag
+command
+append
+mailboxdata
+crlf
+nsresult
+rv
+senddata
+command
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+nsimapprotocol
+getmyrightsforfolder
+mailboxname
+incrementcommandtagnumber
+nscstring
+command
+getservercommandtag
+escapedname
+createescapedmailboxname
+mailboxname
+command
+append
+myrights
+command
+append
+escapedname
+command
+append
+crlf
+nsmemory
+free
+escapedname
+nsresult
+rv
+senddata
+command
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+nsimapprotocol
+onstatusforfolder
+mailboxname
+incrementcommandtagnumber
+nscstring
+command
+getservercommandtag
+escapedname
+createescapedmailboxname
+mailboxname
+command
+append
+status
+command
+append
+escapedname
+command
+append
+uidnext
+messages
+unseen
+crlf
+nsmemory
+free
+escapedname
+nsresult
+rv
+senddata
+command
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+nsimapmailboxspec
+newspec
+getserverstateparser
+createcurrentmailboxspec
+mailboxname
+newspec
+mimapmailfoldersink
+mimapmailfoldersink
+updateimapmailboxstatus
+newspec
+nsimapprotocol
+onlistfolder
+asourcemailbox
+prbool
+abool
+list
+asourcemailbox
+abool
+prbool
+nsimapprotocol
+mailboxisnoselectmailbox
+mailboxname
+prbool
+rv
+prfalse
+nsimapnamespace
+nsformailbox
+nsnull
+mhostsessionlist
+getnamespaceformailboxforhost
+getimapserverkey
+mailboxname
+nsformailbox
+name
+nsformailbox
+mrunningurl
+allocatecanonicalpath
+mailboxname
+nsformailbox
+getdelimiter
+name
+mrunningurl
+allocatecanonicalpath
+mailboxname
+konlinehierarchyseparatorunknown
+name
+name
+prfalse
+nsassertion
+mimapserversink
+unexpected
+no
+imap
+server
+sink
+see
+bug
+mimapserversink
+mimapserversink
+folderisnoselect
+name
+rv
+plstrfree
+name
+rv
+nsresult
+nsimapprotocol
+setfolderadminurl
+mailboxname
+nsresult
+rv
+nserrornullpointer
+nsimapnamespace
+nsformailbox
+nsnull
+mhostsessionlist
+getnamespaceformailboxforhost
+getimapserverkey
+mailboxname
+nsformailbox
+nsxpidlcstring
+name
+nsformailbox
+mrunningurl
+allocatecanonicalpath
+mailboxname
+nsformailbox
+getdelimiter
+gettercopies
+name
+mrunningurl
+allocatecanonicalpath
+mailboxname
+konlinehierarchyseparatorunknown
+gettercopies
+name
+mimapserversink
+rv
+mimapserversink
+setfolderadminurl
+name
+getserverstateparser
+getmanagefolderurl
+rv
+prbool
+nsimapprotocol
+deletemailboxrespectingsubscriptions
+mailboxname
+prbool
+rv
+prtrue
+mailboxisnoselectmailbox
+mailboxname
+deletemailbox
+mailboxname
+rv
+getserverstateparser
+lastcommandsuccessful
+rv
+mautounsubscribe
+prbool
+reportingerrors
+getserverstateparser
+getreportingerrors
+getserverstateparser
+setreportingerrors
+prfalse
+unsubscribe
+mailboxname
+getserverstateparser
+setreportingerrors
+reportingerrors
+rv
+prbool
+nsimapprotocol
+renamemailboxrespectingsubscriptions
+existingname
+newname
+prbool
+reallyrename
+prbool
+rv
+prtrue
+reallyrename
+mailboxisnoselectmailbox
+existingname
+renamemailbox
+existingname
+newname
+rv
+getserverstateparser
+lastcommandsuccessful
+rv
+mautosubscribe
+prbool
+reportingerrors
+getserverstateparser
+getreportingerrors
+getserverstateparser
+setreportingerrors
+prfalse
+subscribe
+newname
+getserverstateparser
+setreportingerrors
+reportingerrors
+mautounsubscribe
+prbool
+reportingerrors
+getserverstateparser
+getreportingerrors
+getserverstateparser
+setreportingerrors
+prfalse
+unsubscribe
+existingname
+getserverstateparser
+setreportingerrors
+reportingerrors
+rv
+prbool
+nsimapprotocol
+renamehierarchybyhand
+oldparentmailboxname
+newparentmailboxname
+prbool
+renamesucceeded
+prtrue
+onlinedirseparator
+konlinehierarchyseparatorunknown
+mdeletablechildren
+nsvoidarray
+prbool
+nonhierarchicalrename
+getserverstateparser
+getcapabilityflag
+knohierarchyrename
+mailboxisnoselectmailbox
+oldparentmailboxname
+mdeletablechildren
+mhierarchynamestate
+kdeletesubfoldersinprogress
+nsimapnamespace
+ns
+nsnull
+mhostsessionlist
+getnamespaceformailboxforhost
+getimapserverkey
+oldparentmailboxname
+ns
+ns
+plstrcasecmp
+oldparentmailboxname
+inbox
+mhostsessionlist
+getdefaultnamespaceoftypeforhost
+getimapserverkey
+kpersonalnamespace
+ns
+ns
+nscstring
+pattern
+oldparentmailboxname
+pattern
+ns
+getdelimiter
+pattern
+prbool
+isusingsubscription
+prfalse
+mhostsessionlist
+gethostisusingsubscription
+getimapserverkey
+isusingsubscription
+isusingsubscription
+lsub
+pattern
+get
+prfalse
+list
+pattern
+get
+prfalse
+mhierarchynamestate
+knooperationinprogress
+getserverstateparser
+lastcommandsuccessful
+renamesucceeded
+renamemailboxrespectingsubscriptions
+oldparentmailboxname
+newparentmailboxname
+prtrue
+print
+numbertodelete
+mdeletablechildren
+count
+print
+childindex
+childindex
+childindex
+numbertodelete
+renamesucceeded
+childindex
+currentname
+mdeletablechildren
+elementat
+childindex
+currentname
+servername
+nsnull
+mrunningurl
+allocateserverpath
+currentname
+onlinedirseparator
+servername
+prfreeif
+currentname
+currentname
+servername
+nscstring
+newchildname
+newparentmailboxname
+newchildname
+currentname
+plstrlen
+oldparentmailboxname
+renamemailboxrespectingsubscriptions
+currentname
+newchildname
+get
+nonhierarchicalrename
+renamesucceeded
+getserverstateparser
+lastcommandsuccessful
+prfreeif
+currentname
+mdeletablechildren
+mdeletablechildren
+nsnull
+renamesucceeded
+prbool
+nsimapprotocol
+deletesubfolders
+selectedmailbox
+prbool
+adeleteself
+prbool
+deletesucceeded
+prtrue
+mdeletablechildren
+nsvoidarray
+mdeletablechildren
+prbool
+folderdeleted
+prfalse
+mhierarchynamestate
+kdeletesubfoldersinprogress
+nscstring
+pattern
+selectedmailbox
+onlinedirseparator
+konlinehierarchyseparatorunknown
+mrunningurl
+getonlinesubdirseparator
+onlinedirseparator
+pattern
+append
+onlinedirseparator
+pattern
+append
+pattern
+isempty
+list
+pattern
+get
+prfalse
+mhierarchynamestate
+knooperationinprogress
+print
+numbertodelete
+mdeletablechildren
+count
+print
+outerindex
+innerindex
+prbool
+folderinsubfolderlist
+prfalse
+selectedmailboxdir
+nsnull
+print
+length
+strlen
+selectedmailbox
+selectedmailboxdir
+prmalloc
+length
+selectedmailboxdir
+strcpy
+selectedmailboxdir
+selectedmailbox
+selectedmailboxdir
+length
+onlinedirseparator
+selectedmailboxdir
+length
+print
+numbertodelete
+folderinsubfolderlist
+currentname
+mdeletablechildren
+elementat
+strcmp
+currentname
+selectedmailbox
+strcmp
+currentname
+selectedmailboxdir
+folderinsubfolderlist
+prtrue
+deletesucceeded
+getserverstateparser
+lastcommandsuccessful
+outerindex
+outerindex
+numbertodelete
+deletesucceeded
+outerindex
+longestname
+nsnull
+print
+longestindex
+innerindex
+innerindex
+mdeletablechildren
+count
+innerindex
+currentname
+mdeletablechildren
+elementat
+innerindex
+longestname
+strlen
+longestname
+strlen
+currentname
+longestname
+currentname
+longestindex
+innerindex
+longestname
+servername
+nsnull
+mdeletablechildren
+removeelementat
+longestindex
+mrunningurl
+allocateserverpath
+longestname
+onlinedirseparator
+servername
+prfreeif
+longestname
+longestname
+servername
+longestname
+strcmp
+selectedmailbox
+longestname
+strncmp
+selectedmailbox
+longestname
+strlen
+selectedmailbox
+selectedmailboxdir
+strcmp
+selectedmailboxdir
+longestname
+adeleteself
+prbool
+deleted
+deletemailboxrespectingsubscriptions
+longestname
+deleted
+folderdeleted
+longestname
+folderdeleted
+deleted
+deletesucceeded
+deleted
+nscomptr
+nsiimapincomingserver
+imapserver
+doqueryreferent
+mserver
+imapserver
+imapserver
+resetconnection
+longestname
+prbool
+deleted
+prfalse
+folderinsubfolderlist
+nsvoidarray
+pdeletablechildren
+mdeletablechildren
+mdeletablechildren
+nsnull
+prbool
+folderdeleted
+prtrue
+deleted
+deletesubfolders
+longestname
+folderdeleted
+folderdeleted
+deleted
+deleted
+deletemailboxrespectingsubscriptions
+longestname
+deleted
+folderdeleted
+longestname
+mdeletablechildren
+pdeletablechildren
+deleted
+deletemailboxrespectingsubscriptions
+longestname
+deleted
+folderdeleted
+longestname
+deletesucceeded
+deleted
+prfreeif
+longestname
+adeleteself
+folderdeleted
+prfree
+selectedmailboxdir
+mdeletablechildren
+mdeletablechildren
+nsnull
+deletesucceeded
+nsimapprotocol
+folderdeleted
+mailboxname
+onlinedelimiter
+konlinehierarchyseparatorunknown
+orphanedmailboxname
+nsnull
+mailboxname
+mrunningurl
+allocatecanonicalpath
+mailboxname
+onlinedelimiter
+orphanedmailboxname
+mimapserversink
+mimapserversink
+onlinefolderdelete
+orphanedmailboxname
+prfreeif
+orphanedmailboxname
+nsimapprotocol
+foldernotcreated
+foldername
+foldername
+mimapserversink
+mimapserversink
+onlinefoldercreatefailed
+foldername
+nsimapprotocol
+folderrenamed
+oldname
+newname
+onlinedelimiter
+konlinehierarchyseparatorunknown
+mhierarchynamestate
+knooperationinprogress
+mhierarchynamestate
+klistingforinfoanddiscovery
+nsxpidlcstring
+canonicaloldname
+canonicalnewname
+mrunningurl
+allocatecanonicalpath
+oldname
+onlinedelimiter
+gettercopies
+canonicaloldname
+mrunningurl
+allocatecanonicalpath
+newname
+onlinedelimiter
+gettercopies
+canonicalnewname
+nscomptr
+nsimsgwindow
+msgwindow
+getmsgwindow
+getteraddrefs
+msgwindow
+mimapserversink
+onlinefolderrename
+msgwindow
+canonicaloldname
+canonicalnewname
+nsimapprotocol
+ondeletefolder
+sourcemailbox
+prbool
+folderdeleted
+prtrue
+prbool
+deleted
+deletesubfolders
+sourcemailbox
+folderdeleted
+folderdeleted
+deleted
+deleted
+deletemailboxrespectingsubscriptions
+sourcemailbox
+deleted
+folderdeleted
+sourcemailbox
+nsimapprotocol
+removemsgsandexpunge
+uint
+numberofmessages
+getserverstateparser
+numberofmessages
+numberofmessages
+store
+flags
+silent
+deleted
+prfalse
+getserverstateparser
+lastcommandsuccessful
+expunge
+nsimapprotocol
+deletefolderandmsgs
+sourcemailbox
+removemsgsandexpunge
+getserverstateparser
+lastcommandsuccessful
+prbool
+reportingerrors
+getserverstateparser
+getreportingerrors
+getserverstateparser
+setreportingerrors
+prfalse
+ondeletefolder
+sourcemailbox
+getserverstateparser
+setreportingerrors
+reportingerrors
+nsimapprotocol
+onrenamefolder
+sourcemailbox
+destinationmailbox
+oncreateserverdestinationfolderpathstring
+destinationmailbox
+prbool
+renamed
+renamehierarchybyhand
+sourcemailbox
+destinationmailbox
+renamed
+folderrenamed
+sourcemailbox
+destinationmailbox
+prfree
+destinationmailbox
+handlememoryfailure
+nsimapprotocol
+onmovefolderhierarchy
+sourcemailbox
+destinationmailbox
+oncreateserverdestinationfolderpathstring
+destinationmailbox
+nscstring
+newboxname
+onlinedirseparator
+konlinehierarchyseparatorunknown
+mrunningurl
+getonlinesubdirseparator
+onlinedirseparator
+newboxname
+destinationmailbox
+nscstring
+oldboxname
+sourcemailbox
+print
+leafstart
+oldboxname
+rfindchar
+onlinedirseparator
+print
+length
+oldboxname
+length
+nscstring
+leafname
+leafstart
+leafname
+oldboxname
+oldboxname
+right
+leafname
+length
+leafstart
+newboxname
+isempty
+newboxname
+append
+onlinedirseparator
+newboxname
+append
+leafname
+prbool
+renamed
+renamehierarchybyhand
+sourcemailbox
+newboxname
+get
+renamed
+folderrenamed
+sourcemailbox
+newboxname
+get
+handlememoryfailure
+nsimapprotocol
+findmailboxesifnecessary
+prbool
+foundmailboxesalready
+prfalse
+nsimapaction
+imapaction
+nsresult
+rv
+nsok
+ifdef
+doingpseudomailboxes
+getserverstateparser
+serverisaolserver
+getimaphostname
+nscrt
+strcmp
+getimaphostname
+imap
+mail
+aol
+prbool
+suppresspseudoview
+prfalse
+nscomptr
+nsimsgincomingserver
+server
+doqueryreferent
+mserver
+server
+getboolattribute
+suppresspseudoview
+suppresspseudoview
+suppresspseudoview
+xaoloption
+readmbox
+endif
+rv
+mrunningurl
+getimapaction
+imapaction
+rv
+mhostsessionlist
+gethaveweeverdiscoveredfoldersforhost
+getimapserverkey
+foundmailboxesalready
+nssucceeded
+rv
+foundmailboxesalready
+imapaction
+nsiimapurl
+nsimapbiff
+imapaction
+nsiimapurl
+nsimapdiscoverallboxesurl
+imapaction
+nsiimapurl
+nsimapupgradetosubscription
+getsubscribingnow
+discovermailboxlist
+nsimapprotocol
+discoverallandsubscribedboxes
+pruint
+count
+mhostsessionlist
+getnumberofnamespacesforhost
+getimapserverkey
+count
+pruint
+count
+nsimapnamespace
+ns
+nsnull
+mhostsessionlist
+getnamespacenumberforhost
+getimapserverkey
+ns
+ns
+ghideotherusersfromlist
+ns
+gettype
+kotherusersnamespace
+prtrue
+prefix
+ns
+getprefix
+prefix
+ghideunusednamespaces
+prefix
+plstrcasecmp
+prefix
+inbox
+nsimapmailboxspec
+boxspec
+nsimapmailboxspec
+boxspec
+nsaddref
+boxspec
+boxspec
+folderselected
+prfalse
+boxspec
+hostname
+nscrt
+strdup
+getimaphostname
+boxspec
+connection
+boxspec
+flagstate
+nsnull
+boxspec
+discoveredfromlsub
+prtrue
+boxspec
+onlineverified
+prtrue
+boxspec
+boxflags
+knoselect
+boxspec
+hierarchyseparator
+ns
+getdelimiter
+mrunningurl
+allocatecanonicalpath
+ns
+getprefix
+ns
+getdelimiter
+boxspec
+allocatedpathname
+boxspec
+namespaceforfolder
+ns
+boxspec
+boxflags
+knamespace
+ns
+gettype
+kpersonalnamespace
+boxspec
+boxflags
+kpersonalmailbox
+kpublicnamespace
+boxspec
+boxflags
+kpublicmailbox
+kotherusersnamespace
+boxspec
+boxflags
+kotherusersmailbox
+discovermailboxspec
+boxspec
+handlememoryfailure
+nscautostring
+allpattern
+prefix
+allpattern
+nscautostring
+toplevelpattern
+prefix
+toplevelpattern
+nscautostring
+secondlevelpattern
+delimiter
+ns
+getdelimiter
+delimiter
+secondlevelpattern
+prefix
+secondlevelpattern
+secondlevelpattern
+delimiter
+secondlevelpattern
+nsresult
+rv
+nscomptr
+nsiimapincomingserver
+imapserver
+doqueryreferent
+mserver
+rv
+nsfailed
+rv
+imapserver
+allpattern
+isempty
+imapserver
+setdoinglsub
+prtrue
+lsub
+allpattern
+get
+prtrue
+toplevelpattern
+isempty
+imapserver
+setdoinglsub
+prfalse
+list
+toplevelpattern
+get
+prtrue
+secondlevelpattern
+isempty
+imapserver
+setdoinglsub
+prfalse
+list
+secondlevelpattern
+get
+prtrue
+nsimapprotocol
+discovermailboxlist
+prbool
+usingsubscription
+prfalse
+setmailboxdiscoverystatus
+econtinue
+getserverstateparser
+serverhasaclcapability
+mhierarchynamestate
+klistingforinfoanddiscovery
+mhierarchynamestate
+knooperationinprogress
+mhostsessionlist
+setonlinetrashfolderexistsforhost
+getimapserverkey
+prfalse
+mhostsessionlist
+gethostisusingsubscription
+getimapserverkey
+usingsubscription
+pruint
+count
+mhostsessionlist
+getnumberofnamespacesforhost
+getimapserverkey
+count
+pruint
+count
+nsimapnamespace
+ns
+nsnull
+mhostsessionlist
+getnamespacenumberforhost
+getimapserverkey
+ns
+ns
+prefix
+ns
+getprefix
+prefix
+ghideunusednamespaces
+prefix
+plstrcasecmp
+prefix
+inbox
+nsimapmailboxspec
+boxspec
+nsimapmailboxspec
+boxspec
+nsaddref
+boxspec
+boxspec
+folderselected
+prfalse
+boxspec
+hostname
+nscrt
+strdup
+getimaphostname
+boxspec
+connection
+boxspec
+flagstate
+nsnull
+boxspec
+discoveredfromlsub
+prtrue
+boxspec
+onlineverified
+prtrue
+boxspec
+boxflags
+knoselect
+boxspec
+hierarchyseparator
+ns
+getdelimiter
+mrunningurl
+allocatecanonicalpath
+ns
+getprefix
+ns
+getdelimiter
+boxspec
+allocatedpathname
+boxspec
+namespaceforfolder
+ns
+boxspec
+boxflags
+knamespace
+ns
+gettype
+kpersonalnamespace
+boxspec
+boxflags
+kpersonalmailbox
+kpublicnamespace
+boxspec
+boxflags
+kpublicmailbox
+kotherusersnamespace
+boxspec
+boxflags
+kotherusersmailbox
+discovermailboxspec
+boxspec
+handlememoryfailure
+nscstring
+pattern
+nscstring
+pattern
+usingsubscription
+pattern
+append
+prefix
+pattern
+append
+pattern
+append
+prefix
+pattern
+append
+delimiter
+ns
+getdelimiter
+delimiter
+pattern
+prefix
+pattern
+pattern
+delimiter
+pattern
+usingsubscription
+lsub
+pattern
+get
+prtrue
+list
+pattern
+get
+prtrue
+list
+pattern
+get
+prtrue
+prbool
+listinboxforhost
+prfalse
+mhostsessionlist
+getshouldalwayslistinboxforhost
+getimapserverkey
+listinboxforhost
+usingsubscription
+listinboxforhost
+list
+inbox
+prtrue
+mhierarchynamestate
+knooperationinprogress
+mailboxdiscoveryfinished
+getserverstateparser
+serverhasaclcapability
+print
+total
+mlistedmailboxlist
+count
+cnt
+total
+progresseventfunctionusingid
+imapgettingaclforfolder
+nsimapmailboxinfo
+mb
+nsnull
+mlistedmailboxlist
+count
+mb
+nsimapmailboxinfo
+mlistedmailboxlist
+mlistedmailboxlist
+removeelementat
+mb
+folderneedsaclinitialized
+mb
+getmailboxname
+onlinename
+nsnull
+mrunningurl
+allocateserverpath
+mb
+getmailboxname
+mb
+getdelimiter
+onlinename
+onlinename
+refreshaclforfolder
+onlinename
+prfree
+onlinename
+percentprogressupdateevent
+cnt
+total
+mb
+cnt
+mb
+deathsignalreceived
+prbool
+nsimapprotocol
+folderneedsaclinitialized
+foldername
+prbool
+rv
+prfalse
+name
+plstrdup
+foldername
+name
+prfalse
+mimapserversink
+folderneedsaclinitialized
+name
+rv
+prfree
+name
+rv
+nsimapprotocol
+mailboxdiscoveryfinished
+deathsignalreceived
+getsubscribingnow
+mhierarchynamestate
+knooperationinprogress
+mhierarchynamestate
+klistingforinfoanddiscovery
+nsimapnamespace
+ns
+nsnull
+mhostsessionlist
+getdefaultnamespaceoftypeforhost
+getimapserverkey
+kpersonalnamespace
+ns
+personaldir
+ns
+ns
+getprefix
+prbool
+trashfolderexists
+prfalse
+prbool
+usingsubscription
+prfalse
+mhostsessionlist
+getonlinetrashfolderexistsforhost
+getimapserverkey
+trashfolderexists
+mhostsessionlist
+gethostisusingsubscription
+getimapserverkey
+usingsubscription
+trashfolderexists
+getdeleteismovetotrash
+usingsubscription
+personaldir
+originaltrashname
+createpossibletrashname
+personaldir
+mhierarchynamestate
+kdiscovertrashfolderinprogress
+list
+originaltrashname
+prtrue
+mhierarchynamestate
+knooperationinprogress
+trashfolderexists
+getdeleteismovetotrash
+ns
+trashname
+createpossibletrashname
+ns
+getprefix
+trashname
+onlinetrashname
+nsnull
+mrunningurl
+allocateserverpath
+trashname
+ns
+getdelimiter
+onlinetrashname
+onlinetrashname
+getserverstateparser
+setreportingerrors
+prfalse
+prbool
+created
+createmailboxrespectingsubscriptions
+onlinetrashname
+getserverstateparser
+setreportingerrors
+prtrue
+created
+mhierarchynamestate
+kdiscovertrashfolderinprogress
+list
+onlinetrashname
+prfalse
+mhierarchynamestate
+knooperationinprogress
+mhostsessionlist
+setonlinetrashfolderexistsforhost
+getimapserverkey
+prtrue
+prfree
+onlinetrashname
+prfreeif
+trashname
+mhostsessionlist
+sethaveweeverdiscoveredfoldersforhost
+getimapserverkey
+prtrue
+mimapserversink
+mimapserversink
+discoverydone
+prbool
+nsimapprotocol
+createmailboxrespectingsubscriptions
+mailboxname
+createmailbox
+mailboxname
+prbool
+rv
+getserverstateparser
+lastcommandsuccessful
+rv
+mautosubscribe
+prbool
+reportingerrors
+getserverstateparser
+getreportingerrors
+getserverstateparser
+setreportingerrors
+prfalse
+onsubscribe
+mailboxname
+getserverstateparser
+setreportingerrors
+reportingerrors
+rv
+nsimapprotocol
+createmailbox
+mailboxname
+progresseventfunctionusingid
+imapstatuscreatingmailbox
+incrementcommandtagnumber
+escapedname
+createescapedmailboxname
+mailboxname
+nscstring
+command
+getservercommandtag
+command
+create
+command
+escapedname
+command
+crlf
+nsmemory
+free
+escapedname
+nsresult
+rv
+senddata
+command
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+nsimapprotocol
+deletemailbox
+mailboxname
+getserverstateparser
+getimapstate
+nsimapserverresponseparser
+kfolderselected
+getserverstateparser
+getselectedmailboxname
+plstrcmp
+getserverstateparser
+getselectedmailboxname
+mailboxname
+close
+progresseventfunctionusingidwithstring
+imapstatusdeletingmailbox
+mailboxname
+incrementcommandtagnumber
+escapedname
+createescapedmailboxname
+mailboxname
+nscstring
+command
+getservercommandtag
+command
+command
+escapedname
+command
+crlf
+nsmemory
+free
+escapedname
+nsresult
+rv
+senddata
+command
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+nsimapprotocol
+renamemailbox
+existingname
+newname
+getserverstateparser
+getimapstate
+nsimapserverresponseparser
+kfolderselected
+getserverstateparser
+getselectedmailboxname
+plstrcmp
+getserverstateparser
+getselectedmailboxname
+existingname
+close
+progresseventfunctionusingidwithstring
+imapstatusrenamingmailbox
+existingname
+incrementcommandtagnumber
+escapedexistingname
+createescapedmailboxname
+existingname
+escapednewname
+createescapedmailboxname
+newname
+nscstring
+command
+getservercommandtag
+command
+rename
+command
+escapedexistingname
+command
+command
+escapednewname
+command
+crlf
+nsmemory
+free
+escapedexistingname
+nsmemory
+free
+escapednewname
+nsresult
+rv
+senddata
+command
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+nsimapprotocol
+createpossibletrashname
+prefix
+nscstring
+returntrash
+prefix
+returntrash
+gettrashfoldername
+tonewcstring
+returntrash
+nsimapprotocol
+gettrashfoldername
+mtrashfoldername
+isempty
+nscomptr
+nsiimapincomingserver
+server
+doqueryreferent
+mserver
+server
+nsxpidlstring
+trashfoldername
+nssucceeded
+server
+gettrashfoldername
+gettercopies
+trashfoldername
+trashfoldernameutf
+createutfconvertedstringfromunicode
+trashfoldername
+trashfoldernameutf
+mtrashfoldername
+assign
+trashfoldernameutf
+prfree
+trashfoldernameutf
+mtrashfoldername
+get
+nsimapprotocol
+lsub
+mailboxpattern
+prbool
+adddirectoryifnecessary
+progresseventfunctionusingid
+imapstatuslookingformailbox
+incrementcommandtagnumber
+boxnamewithonlinedirectory
+nsnull
+adddirectoryifnecessary
+mrunningurl
+addonlinedirectoryifnecessary
+mailboxpattern
+boxnamewithonlinedirectory
+escapedpattern
+createescapedmailboxname
+boxnamewithonlinedirectory
+boxnamewithonlinedirectory
+mailboxpattern
+nscstring
+command
+getservercommandtag
+command
+lsub
+command
+escapedpattern
+command
+crlf
+nsmemory
+free
+escapedpattern
+prfreeif
+boxnamewithonlinedirectory
+nsresult
+rv
+senddata
+command
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+nsimapprotocol
+list
+mailboxpattern
+prbool
+adddirectoryifnecessary
+progresseventfunctionusingid
+imapstatuslookingformailbox
+incrementcommandtagnumber
+boxnamewithonlinedirectory
+nsnull
+adddirectoryifnecessary
+mrunningurl
+addonlinedirectoryifnecessary
+mailboxpattern
+boxnamewithonlinedirectory
+escapedpattern
+createescapedmailboxname
+boxnamewithonlinedirectory
+boxnamewithonlinedirectory
+mailboxpattern
+nscstring
+command
+getservercommandtag
+command
+list
+command
+escapedpattern
+command
+crlf
+nsmemory
+free
+escapedpattern
+prfreeif
+boxnamewithonlinedirectory
+nsresult
+rv
+senddata
+command
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+nsimapprotocol
+subscribe
+mailboxname
+progresseventfunctionusingidwithstring
+imapstatussubscribetomailbox
+mailboxname
+incrementcommandtagnumber
+escapedname
+createescapedmailboxname
+mailboxname
+nscstring
+command
+getservercommandtag
+command
+subscribe
+command
+escapedname
+command
+crlf
+nsmemory
+free
+escapedname
+nsresult
+rv
+senddata
+command
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+nsimapprotocol
+unsubscribe
+mailboxname
+progresseventfunctionusingidwithstring
+imapstatusunsubscribemailbox
+mailboxname
+incrementcommandtagnumber
+escapedname
+createescapedmailboxname
+mailboxname
+nscstring
+command
+getservercommandtag
+command
+unsubscribe
+command
+escapedname
+command
+crlf
+nsmemory
+free
+escapedname
+nsresult
+rv
+senddata
+command
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+nsimapprotocol
+search
+searchcriteria
+prbool
+useuid
+prbool
+notifyhit
+mnotifysearchhit
+notifyhit
+progresseventfunctionusingid
+imapstatussearchmailbox
+incrementcommandtagnumber
+nscstring
+protocolstring
+getservercommandtag
+useuid
+protocolstring
+append
+uid
+protocolstring
+append
+protocolstring
+append
+searchcriteria
+protocolstring
+append
+crlf
+nsresult
+rv
+senddata
+protocolstring
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+nsimapprotocol
+copy
+messagelist
+destinationmailbox
+prbool
+idsareuid
+incrementcommandtagnumber
+escapeddestination
+createescapedmailboxname
+destinationmailbox
+nscautostring
+protocolstring
+getservercommandtag
+idsareuid
+protocolstring
+append
+uid
+mimapaction
+nsiimapurl
+nsimaponlinemove
+getserverstateparser
+serverisaolserver
+protocolstring
+append
+xaol
+move
+protocolstring
+append
+copy
+protocolstring
+append
+messagelist
+protocolstring
+append
+protocolstring
+append
+escapeddestination
+protocolstring
+append
+crlf
+nsresult
+rv
+senddata
+protocolstring
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+protocolstring
+get
+nsmemory
+free
+escapeddestination
+nsimapprotocol
+nthlevelchildlist
+onlinemailboxprefix
+print
+depth
+nsassertion
+depth
+oops
+depth
+must
+be
+equal
+greater
+than
+depth
+nscstring
+truncatedprefix
+onlinemailboxprefix
+prunichar
+slash
+truncatedprefix
+last
+slash
+truncatedprefix
+setlength
+truncatedprefix
+length
+nscautostring
+pattern
+truncatedprefix
+nscautostring
+suffix
+count
+separator
+mrunningurl
+getonlinesubdirseparator
+separator
+suffix
+assign
+separator
+suffix
+count
+depth
+pattern
+suffix
+count
+list
+pattern
+get
+prfalse
+nsimapprotocol
+processauthenticatedstateurl
+nsimapaction
+imapaction
+sourcemailbox
+nsnull
+mrunningurl
+getimapaction
+imapaction
+imapaction
+nsiimapurl
+nsimaplsubfolders
+onlsubfolders
+nsiimapurl
+nsimapappendmsgfromfile
+onappendmsgfromfile
+nsiimapurl
+nsimapdiscoverallboxesurl
+nsassertion
+getsubscribingnow
+oops
+should
+get
+here
+from
+subscribe
+ui
+discovermailboxlist
+nsiimapurl
+nsimapdiscoverallandsubscribedboxesurl
+discoverallandsubscribedboxes
+nsiimapurl
+nsimapcreatefolder
+sourcemailbox
+oncreateserversourcefolderpathstring
+oncreatefolder
+sourcemailbox
+nsiimapurl
+nsimapensureexistsfolder
+sourcemailbox
+oncreateserversourcefolderpathstring
+onensureexistsfolder
+sourcemailbox
+nsiimapurl
+nsimapdiscoverchildrenurl
+canonicalparent
+nsnull
+mrunningurl
+createserversourcefolderpathstring
+canonicalparent
+canonicalparent
+nthlevelchildlist
+canonicalparent
+prfree
+canonicalparent
+nsiimapurl
+nsimapdiscoverlevelchildrenurl
+canonicalparent
+nsnull
+mrunningurl
+createserversourcefolderpathstring
+canonicalparent
+print
+depth
+mrunningurl
+getchilddiscoverydepth
+depth
+canonicalparent
+nthlevelchildlist
+canonicalparent
+depth
+prfree
+canonicalparent
+nsiimapurl
+nsimapsubscribe
+sourcemailbox
+oncreateserversourcefolderpathstring
+onsubscribe
+sourcemailbox
+getserverstateparser
+lastcommandsuccessful
+prbool
+shouldlist
+mrunningurl
+getexternallinkurl
+shouldlist
+shouldlist
+onlistfolder
+sourcemailbox
+prtrue
+nsiimapurl
+nsimapunsubscribe
+sourcemailbox
+oncreateserversourcefolderpathstring
+onunsubscribe
+sourcemailbox
+nsiimapurl
+nsimaprefreshacl
+sourcemailbox
+oncreateserversourcefolderpathstring
+refreshaclforfolder
+sourcemailbox
+nsiimapurl
+nsimaprefreshallacls
+onrefreshallacls
+nsiimapurl
+nsimaplistfolder
+sourcemailbox
+oncreateserversourcefolderpathstring
+onlistfolder
+sourcemailbox
+prfalse
+nsiimapurl
+nsimapfolderstatus
+sourcemailbox
+oncreateserversourcefolderpathstring
+onstatusforfolder
+sourcemailbox
+nsiimapurl
+nsimaprefreshfolderurls
+sourcemailbox
+oncreateserversourcefolderpathstring
+xmailboxinfo
+sourcemailbox
+getserverstateparser
+lastcommandsuccessful
+setfolderadminurl
+sourcemailbox
+nsiimapurl
+nsimapdeletefolder
+sourcemailbox
+oncreateserversourcefolderpathstring
+ondeletefolder
+sourcemailbox
+nsiimapurl
+nsimaprenamefolder
+sourcemailbox
+oncreateserversourcefolderpathstring
+onrenamefolder
+sourcemailbox
+nsiimapurl
+nsimapmovefolderhierarchy
+sourcemailbox
+oncreateserversourcefolderpathstring
+onmovefolderhierarchy
+sourcemailbox
+prfree
+sourcemailbox
+nsimapprotocol
+processafterauthenticated
+prbool
+hasadminurl
+prtrue
+nssucceeded
+mhostsessionlist
+gethosthasadminurl
+getimapserverkey
+hasadminurl
+hasadminurl
+getserverstateparser
+serverhasserverinfo
+xserverinfo
+getserverstateparser
+lastcommandsuccessful
+mimapserversink
+mimapserversink
+setmailserverurls
+getserverstateparser
+getmailaccounturl
+getserverstateparser
+getmanagelistsurl
+getserverstateparser
+getmanagefiltersurl
+mhostsessionlist
+sethosthasadminurl
+getimapserverkey
+prtrue
+getserverstateparser
+serverisnetscapexserver
+netscape
+getserverstateparser
+lastcommandsuccessful
+mimapserversink
+mimapserversink
+setmailserverurls
+getserverstateparser
+getmailaccounturl
+nsnull
+nsnull
+getserverstateparser
+serverhasnamespacecapability
+prbool
+namespacesoverridable
+prfalse
+prbool
+havenamespacesforhost
+prfalse
+mhostsessionlist
+getnamespacesoverridableforhost
+getimapserverkey
+namespacesoverridable
+mhostsessionlist
+getgotnamespacesforhost
+getimapserverkey
+havenamespacesforhost
+namespacesoverridable
+havenamespacesforhost
+namespace
+nsimapprotocol
+setupmessageflagsstring
+nscstring
+flagstring
+imapmessageflagstype
+flags
+pruint
+userflags
+flags
+kimapmsgseenflag
+flagstring
+append
+seen
+flags
+kimapmsgansweredflag
+flagstring
+append
+answered
+flags
+kimapmsgflaggedflag
+flagstring
+append
+flagged
+flags
+kimapmsgdeletedflag
+flagstring
+append
+deleted
+flags
+kimapmsgdraftflag
+flagstring
+append
+draft
+flags
+kimapmsgrecentflag
+flagstring
+append
+recent
+flags
+kimapmsgforwardedflag
+userflags
+kimapmsgsupportforwardedflag
+flagstring
+append
+forwarded
+flags
+kimapmsgmdnsentflag
+userflags
+kimapmsgsupportmdnsentflag
+flagstring
+append
+mdnsent
+flags
+kimapmsglabelflags
+userflags
+kimapmsgsupportuserflag
+pruint
+labelvalue
+flags
+kimapmsglabelflags
+flagstring
+append
+label
+flagstring
+appendint
+labelvalue
+flagstring
+append
+flagstring
+isempty
+flagstring
+setlength
+flagstring
+length
+nsimapprotocol
+processstoreflags
+messageidsstring
+prbool
+idsareuids
+imapmessageflagstype
+flags
+prbool
+addflags
+nscstring
+flagstring
+uint
+userflags
+getserverstateparser
+supportsuserflags
+uint
+settableflags
+getserverstateparser
+settablepermanentflags
+addflags
+flags
+userflags
+flags
+settableflags
+addflags
+flagstring
+flags
+flagstring
+flags
+flags
+kimapmsgseenflag
+kimapmsgseenflag
+settableflags
+flagstring
+append
+seen
+flags
+kimapmsgansweredflag
+kimapmsgansweredflag
+settableflags
+flagstring
+append
+answered
+flags
+kimapmsgflaggedflag
+kimapmsgflaggedflag
+settableflags
+flagstring
+append
+flagged
+flags
+kimapmsgdeletedflag
+kimapmsgdeletedflag
+settableflags
+flagstring
+append
+deleted
+flags
+kimapmsgdraftflag
+kimapmsgdraftflag
+settableflags
+flagstring
+append
+draft
+flags
+kimapmsgforwardedflag
+kimapmsgsupportforwardedflag
+userflags
+flagstring
+append
+forwarded
+flags
+kimapmsgmdnsentflag
+kimapmsgsupportmdnsentflag
+userflags
+flagstring
+append
+mdnsent
+userflags
+kimapmsgsupportuserflag
+flags
+kimapmsglabelflags
+pruint
+labelvalue
+flags
+kimapmsglabelflags
+flagstring
+append
+label
+flagstring
+appendint
+labelvalue
+flagstring
+append
+flags
+addflags
+flagstring
+append
+label
+label
+label
+label
+label
+flagstring
+length
+flagstring
+setcharat
+flagstring
+length
+store
+messageidsstring
+flagstring
+get
+idsareuids
+addflags
+userflags
+kimapmsgsupportuserflag
+flags
+kimapmsglabelflags
+flagstring
+flags
+pruint
+labelvalue
+flags
+kimapmsglabelflags
+pruint
+labelvalue
+flagstring
+append
+label
+flagstring
+appendint
+flagstring
+append
+flagstring
+setcharat
+flagstring
+length
+store
+messageidsstring
+flagstring
+get
+idsareuids
+nsimapprotocol
+close
+incrementcommandtagnumber
+nscstring
+command
+getservercommandtag
+command
+append
+close
+crlf
+progresseventfunctionusingid
+imapstatusclosemailbox
+getserverstateparser
+resetflaginfo
+nsresult
+rv
+senddata
+command
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+nsimapprotocol
+xaoloption
+option
+incrementcommandtagnumber
+nscstring
+command
+getservercommandtag
+command
+append
+xaol
+option
+command
+append
+option
+command
+append
+crlf
+nsresult
+rv
+senddata
+command
+get
+nssucceeded
+rv
+parseimapandcheckfornewmail
+nsimapprotocol
+check
+incrementcommandtagnumber
+nscstring
+command
+getservercommandtag
+command
+append
+check
+crlf
+nsresult
+rv
+senddata
+command
+get
+nssucceeded
+rv
+mflagchangecount
+mlastchecktime
+prnow
+parseimapandcheckfornewmail
+nsresult
+nsimapprotocol
+getmsgwindow
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+nsok
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+rv
+nsfailed
+rv
+rv
+rv
+mailnewsurl
+getmsgwindow
+amsgwindow
+rv
+prbool
+nsimapprotocol
+trytologon
+print
+logontries
+prbool
+loginsucceeded
+prfalse
+nsxpidlcstring
+password
+username
+nsnull
+nsresult
+rv
+nsok
+nscomptr
+nsimsgincomingserver
+server
+doqueryreferent
+mserver
+server
+moverrideurlconnectioninfo
+password
+assign
+mlogoncookie
+rv
+server
+getpassword
+gettercopies
+password
+rv
+server
+getrealusername
+username
+nscomptr
+nsimsgwindow
+amsgwindow
+username
+password
+isempty
+mimapserversink
+amsgwindow
+rv
+getmsgwindow
+getteraddrefs
+amsgwindow
+nsfailed
+rv
+rv
+rv
+mimapserversink
+promptforpassword
+gettercopies
+password
+amsgwindow
+rv
+nsmsgpasswordpromptcancelled
+prbool
+imappasswordisnew
+prfalse
+username
+prbool
+prefbool
+prtrue
+prbool
+lastreportingerrors
+getserverstateparser
+getreportingerrors
+getserverstateparser
+setreportingerrors
+prfalse
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nssucceeded
+rv
+prefbranch
+prefbranch
+getboolpref
+mail
+authlogin
+prefbool
+prefbool
+getserverstateparser
+getcapabilityflag
+kcapabilityundefined
+capability
+getserverstateparser
+getcapabilityflag
+khascramcapability
+authlogin
+username
+password
+khascramcapability
+logontries
+getserverstateparser
+getcapabilityflag
+khasauthplaincapability
+authlogin
+username
+password
+khasauthplaincapability
+logontries
+getserverstateparser
+getcapabilityflag
+khasauthlogincapability
+authlogin
+username
+password
+khasauthlogincapability
+logontries
+insecurelogin
+username
+password
+insecurelogin
+username
+password
+getserverstateparser
+lastcommandsuccessful
+mimapserversink
+rv
+mimapserversink
+forgetpassword
+deathsignalreceived
+alertusereventusingid
+imaploginfailed
+mhostsessionlist
+setpasswordforhost
+getimapserverkey
+nsnull
+mcurrentbiffstate
+nsimsgfolder
+nsmsgbiffstateunknown
+sendsetbiffindicatorevent
+mcurrentbiffstate
+password
+truncate
+rv
+mhostsessionlist
+setpasswordforhost
+getimapserverkey
+password
+rv
+mhostsessionlist
+getpasswordverifiedonline
+getimapserverkey
+imappasswordisnew
+nssucceeded
+rv
+imappasswordisnew
+mhostsessionlist
+setpasswordverifiedonline
+getimapserverkey
+ifdef
+unreadycode
+netsetpoppassword
+passwordforhost
+endif
+imappasswordisnew
+mcurrentbiffstate
+nsimsgfolder
+nsmsgbiffstateunknown
+mcurrentbiffstate
+nsimsgfolder
+nsmsgbiffstatenomail
+sendsetbiffindicatorevent
+mcurrentbiffstate
+ifdef
+unreadycode
+libnetlock
+deathsignalreceived
+setuserauthenticatedissafe
+getactiveentry
+urls
+msgpane
+mwcontext
+context
+getactiveentry
+windowid
+context
+ferememberpoppassword
+context
+secnavmungestring
+passwordforhost
+libnetunlock
+endif
+loginsucceeded
+prtrue
+getserverstateparser
+setreportingerrors
+lastreportingerrors
+loginsucceeded
+imappasswordisnew
+mimapserversink
+setuserauthenticated
+prtrue
+loginsucceeded
+processafterauthenticated
+handlecurrenturlerror
+ifdef
+unreadycode
+setcurrententrystatus
+setconnectionstatus
+endif
+loginsucceeded
+logontries
+prfreeif
+username
+loginsucceeded
+mcurrentbiffstate
+nsimsgfolder
+nsmsgbiffstateunknown
+sendsetbiffindicatorevent
+mcurrentbiffstate
+handlecurrenturlerror
+setconnectionstatus
+loginsucceeded
+nsimapprotocol
+updatefolderquotadata
+nscstring
+aquotaroot
+pruint
+aused
+pruint
+amax
+nsassertion
+mimapmailfoldersink
+mimapmailfoldersink
+is
+mimapmailfoldersink
+setfolderquotadataisvalid
+prtrue
+mimapmailfoldersink
+setfolderquotaroot
+aquotaroot
+mimapmailfoldersink
+setfolderquotausedkb
+aused
+mimapmailfoldersink
+setfolderquotamaxkb
+amax
+nsimapprotocol
+getquotadataifsupported
+aboxname
+getserverstateparser
+getcapabilityflag
+kquotacapability
+nsresult
+rv
+nscomptr
+nsiimapincomingserver
+imapserver
+doqueryreferent
+mserver
+rv
+nsfailed
+rv
+nsxpidlcstring
+redirectortype
+imapserver
+getredirectortype
+gettercopies
+redirectortype
+redirectortype
+equals
+nsliteralcstring
+aol
+plstrcasecmp
+inbox
+aboxname
+incrementcommandtagnumber
+nscautostring
+quotacommand
+quotacommand
+nsdependentcstring
+getservercommandtag
+nsliteralcstring
+getquotaroot
+nsdependentcstring
+aboxname
+nsliteralcstring
+crlf
+nsassertion
+mimapmailfoldersink
+mimapmailfoldersink
+is
+mimapmailfoldersink
+setfolderquotacommandissued
+prtrue
+nsresult
+quotarv
+senddata
+quotacommand
+get
+nssucceeded
+quotarv
+parseimapandcheckfornewmail
+nsnull
+prtrue
+prbool
+nsimapprotocol
+getdeleteismovetotrash
+prbool
+rv
+prfalse
+nsassertion
+mhostsessionlist
+fatal
+host
+session
+list
+mhostsessionlist
+mhostsessionlist
+getdeleteismovetotrashforhost
+getimapserverkey
+rv
+rv
+nsimethodimp
+nsimapprotocol
+overrideconnectioninfo
+prunichar
+phost
+pruint
+pport
+pcookiedata
+mlogonhost
+assignwithconversion
+phost
+mlogonport
+pport
+mlogoncookie
+pcookiedata
+moverrideurlconnectioninfo
+prtrue
+nsok
+prbool
+nsimapprotocol
+checkneeded
+mflagchangecount
+kflagchangesbeforecheck
+prtrue
+prtime
+deltatime
+print
+deltainseconds
+llsub
+deltatime
+prnow
+mlastchecktime
+prtimeseconds
+deltatime
+deltainseconds
+deltainseconds
+kmaxsecondsbeforecheck
+nsimapmailboxinfo
+nsimapmailboxinfo
+name
+delimiter
+mmailboxname
+name
+mdelimiter
+delimiter
+mchildrenlisted
+prfalse
+nsimapmailboxinfo
+nsimapmailboxinfo
+nsimapcachestreamlistener
+nsistreamlistener
+nsdeclisupports
+nsdeclnsirequestobserver
+nsdeclnsistreamlistener
+nsimapcachestreamlistener
+nsimapcachestreamlistener
+nsresult
+init
+nsistreamlistener
+astreamlistener
+nsiimapmockchannel
+amockchanneltouse
+nscomptr
+nsiimapmockchannel
+mchanneltouse
+nscomptr
+nsistreamlistener
+mlistener
+nsimpladdref
+nsimapcachestreamlistener
+nsimplrelease
+nsimapcachestreamlistener
+nsinterfacemapbegin
+nsimapcachestreamlistener
+nsinterfacemapentryambiguous
+nsisupports
+nsistreamlistener
+nsinterfacemapentry
+nsirequestobserver
+nsinterfacemapentry
+nsistreamlistener
+nsinterfacemapend
+nsimapcachestreamlistener
+nsimapcachestreamlistener
+nsimapcachestreamlistener
+nsimapcachestreamlistener
+nsresult
+nsimapcachestreamlistener
+init
+nsistreamlistener
+astreamlistener
+nsiimapmockchannel
+amockchanneltouse
+nsensurearg
+astreamlistener
+nsensurearg
+amockchanneltouse
+mchanneltouse
+amockchanneltouse
+mlistener
+astreamlistener
+nsok
+nsimethodimp
+nsimapcachestreamlistener
+onstartrequest
+nsirequest
+request
+nsisupports
+actxt
+nscomptr
+nsiloadgroup
+loadgroup
+mchanneltouse
+getloadgroup
+getteraddrefs
+loadgroup
+nscomptr
+nsirequest
+ourrequest
+doqueryinterface
+mchanneltouse
+loadgroup
+loadgroup
+addrequest
+ourrequest
+nsnull
+mlistener
+onstartrequest
+ourrequest
+actxt
+nsimethodimp
+nsimapcachestreamlistener
+onstoprequest
+nsirequest
+request
+nsisupports
+actxt
+nsresult
+astatus
+nsresult
+rv
+mlistener
+onstoprequest
+mchanneltouse
+actxt
+astatus
+nscomptr
+nsiloadgroup
+loadgroup
+mchanneltouse
+getloadgroup
+getteraddrefs
+loadgroup
+loadgroup
+loadgroup
+removerequest
+mchanneltouse
+nsnull
+astatus
+mlistener
+nsnull
+mchanneltouse
+close
+mchanneltouse
+nsnull
+rv
+nsimethodimp
+nsimapcachestreamlistener
+ondataavailable
+nsirequest
+request
+nsisupports
+actxt
+nsiinputstream
+ainstream
+pruint
+asourceoffset
+pruint
+acount
+mlistener
+ondataavailable
+mchanneltouse
+actxt
+ainstream
+asourceoffset
+acount
+nsimplthreadsafeaddref
+nsimapmockchannel
+nsimplthreadsaferelease
+nsimapmockchannel
+nsinterfacemapbegin
+nsimapmockchannel
+nsinterfacemapentryambiguous
+nsisupports
+nsiimapmockchannel
+nsinterfacemapentry
+nsiimapmockchannel
+nsinterfacemapentry
+nsichannel
+nsinterfacemapentry
+nsirequest
+nsinterfacemapentry
+nsicachelistener
+nsinterfacemapentry
+nsitransporteventsink
+nsinterfacemapendthreadsafe
+nsimapmockchannel
+nsimapmockchannel
+mchannelcontext
+nsnull
+mcancelstatus
+nsok
+mloadflags
+mchannelclosed
+prfalse
+mreadingfromcache
+prfalse
+mtryingtoreadpart
+prfalse
+nsimapmockchannel
+nsimapmockchannel
+mchannelclosed
+close
+nsresult
+nsimapmockchannel
+notifystartendreadfromcache
+prbool
+start
+nsresult
+rv
+nsok
+mreadingfromcache
+start
+nscomptr
+nsiimapurl
+imapurl
+doqueryinterface
+murl
+rv
+imapurl
+nscomptr
+nsiimapmailfoldersink
+foldersink
+rv
+imapurl
+getimapmailfoldersink
+getteraddrefs
+foldersink
+foldersink
+nscomptr
+nsimsgmailnewsurl
+mailurl
+doqueryinterface
+murl
+rv
+foldersink
+seturlstate
+nsnull
+mailurl
+start
+nsok
+rv
+nsimethodimp
+nsimapmockchannel
+close
+mreadingfromcache
+notifystartendreadfromcache
+prfalse
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+murl
+mailnewsurl
+nscomptr
+nsicacheentrydescriptor
+cacheentry
+mailnewsurl
+getmemcacheentry
+getteraddrefs
+cacheentry
+cacheentry
+cacheentry
+markvalid
+mchannellistener
+nsnull
+mcacherequest
+nsnull
+mtryingtoreadpart
+nsresult
+rv
+nscomptr
+nsiimapurl
+imapurl
+doqueryinterface
+murl
+rv
+imapurl
+nscomptr
+nsiimapmailfoldersink
+foldersink
+rv
+imapurl
+getimapmailfoldersink
+getteraddrefs
+foldersink
+foldersink
+nscomptr
+nsimsgmailnewsurl
+mailurl
+doqueryinterface
+murl
+rv
+foldersink
+releaseurlcacheentry
+mailurl
+murl
+nsnull
+mchannelclosed
+prtrue
+nsok
+nsimethodimp
+nsimapmockchannel
+getprogresseventsink
+nsiprogresseventsink
+aprogresseventsink
+aprogresseventsink
+mprogresseventsink
+nsifaddref
+aprogresseventsink
+nsok
+nsimethodimp
+nsimapmockchannel
+setprogresseventsink
+nsiprogresseventsink
+aprogresseventsink
+mprogresseventsink
+aprogresseventsink
+nsok
+nsimethodimp
+nsimapmockchannel
+getchannellistener
+nsistreamlistener
+achannellistener
+achannellistener
+mchannellistener
+nsifaddref
+achannellistener
+nsok
+nsimethodimp
+nsimapmockchannel
+getchannelcontext
+nsisupports
+achannelcontext
+achannelcontext
+mchannelcontext
+nsifaddref
+achannelcontext
+nsok
+nsimethodimp
+nsimapmockchannel
+setloadgroup
+nsiloadgroup
+aloadgroup
+mloadgroup
+aloadgroup
+nsok
+nsimethodimp
+nsimapmockchannel
+getloadgroup
+nsiloadgroup
+aloadgroup
+aloadgroup
+mloadgroup
+nsifaddref
+aloadgroup
+nsok
+nsimethodimp
+nsimapmockchannel
+getoriginaluri
+nsiuri
+auri
+auri
+murl
+nsifaddref
+auri
+nsok
+nsimethodimp
+nsimapmockchannel
+setoriginaluri
+nsiuri
+auri
+nsok
+nsimethodimp
+nsimapmockchannel
+geturi
+nsiuri
+auri
+auri
+murl
+nsifaddref
+auri
+nsok
+nsimethodimp
+nsimapmockchannel
+seturi
+nsiuri
+auri
+murl
+auri
+ifdef
+debugbienvenu
+auri
+printf
+clearing
+uri
+endif
+murl
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+murl
+mailnewsurl
+mprogresseventsink
+nscomptr
+nsimsgstatusfeedback
+statusfeedback
+mailnewsurl
+getstatusfeedback
+getteraddrefs
+statusfeedback
+mprogresseventsink
+doqueryinterface
+statusfeedback
+nsok
+nsimethodimp
+nsimapmockchannel
+open
+nsiinputstream
+retval
+nsnotreached
+nsimapmockchannel
+open
+nserrornotimplemented
+nsimethodimp
+nsimapmockchannel
+oncacheentryavailable
+nsicacheentrydescriptor
+entry
+nscacheaccessmode
+access
+nsresult
+status
+nsresult
+rv
+nsok
+mchannelclosed
+nsok
+nsensurearg
+murl
+ifdef
+debugbienvenu
+nsxpidlcstring
+entrykey
+entry
+getkey
+gettercopies
+entrykey
+printf
+with
+access
+ld
+status
+ld
+entrykey
+get
+access
+status
+endif
+nssucceeded
+status
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+murl
+rv
+mailnewsurl
+setmemcacheentry
+entry
+mtryingtoreadpart
+access
+nsicache
+accesswrite
+access
+nsicache
+accessread
+entry
+doom
+nscomptr
+nsiimapurl
+imapurl
+doqueryinterface
+murl
+setuppartextractorlistener
+imapurl
+mchannellistener
+opencacheentry
+access
+nsicache
+accesswrite
+access
+nsicache
+accessread
+nscomptr
+nsistreamlistener
+newlistener
+nscomptr
+nsistreamlistenertee
+tee
+docreateinstance
+kstreamlistenerteecid
+rv
+nssucceeded
+rv
+nscomptr
+nsioutputstream
+out
+rv
+entry
+openoutputstream
+getteraddrefs
+out
+nssucceeded
+rv
+rv
+tee
+init
+mchannellistener
+out
+mchannellistener
+doqueryinterface
+tee
+rv
+readfrommemcache
+entry
+notifystartendreadfromcache
+prtrue
+access
+nsicache
+accesswrite
+entry
+markvalid
+nssucceeded
+rv
+nsok
+mailnewsurl
+setmemcacheentry
+nsnull
+readfromimapconnection
+nsresult
+nsimapmockchannel
+opencacheentry
+nsresult
+rv
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsicachesession
+cachesession
+rv
+imapservice
+getcachesession
+getteraddrefs
+cachesession
+nsensuresuccess
+rv
+rv
+nscautostring
+urlspec
+murl
+getasciispec
+urlspec
+anchor
+strrchr
+urlspec
+get
+anchor
+mtryingtoreadpart
+mtryingtoreadpart
+prfalse
+anchor
+strcmp
+anchor
+header
+filter
+mtryingtoreadpart
+prtrue
+anchor
+print
+uidvalidity
+nscomptr
+nsiimapurl
+imapurl
+doqueryinterface
+murl
+rv
+imapurl
+nscomptr
+nsiimapmailfoldersink
+foldersink
+rv
+imapurl
+getimapmailfoldersink
+getteraddrefs
+foldersink
+foldersink
+foldersink
+getuidvalidity
+uidvalidity
+nscautostring
+cachekey
+cachekey
+appendint
+uidvalidity
+cachekey
+append
+urlspec
+cachesession
+asyncopencacheentry
+cachekey
+get
+nsicache
+accessreadwrite
+nsresult
+nsimapmockchannel
+readfrommemcache
+nsicacheentrydescriptor
+entry
+nsensurearg
+entry
+pruint
+annotationlength
+nsxpidlcstring
+annotation
+nsxpidlcstring
+entrykey
+nsxpidlcstring
+contenttype
+nsresult
+rv
+nsok
+prbool
+shouldusecacheentry
+prfalse
+entry
+getkey
+gettercopies
+entrykey
+entrykey
+findchar
+knotfound
+entry
+getmetadataelement
+contenttype
+gettercopies
+contenttype
+contenttype
+isempty
+setcontenttype
+contenttype
+shouldusecacheentry
+prtrue
+rv
+entry
+getmetadataelement
+contentmodified
+gettercopies
+annotation
+nssucceeded
+rv
+annotation
+get
+annotationlength
+strlen
+annotation
+get
+annotationlength
+strlen
+not
+modified
+nscrt
+strncmp
+annotation
+not
+modified
+annotationlength
+shouldusecacheentry
+prtrue
+shouldusecacheentry
+nscomptr
+nsiinputstream
+in
+rv
+entry
+openinputstream
+getteraddrefs
+in
+nsfailed
+rv
+rv
+nscomptr
+nsiinputstreampump
+pump
+rv
+nsnewinputstreampump
+getteraddrefs
+pump
+in
+nsfailed
+rv
+rv
+nsimapcachestreamlistener
+cachelistener
+nsimapcachestreamlistener
+nsaddref
+cachelistener
+cachelistener
+init
+mchannellistener
+rv
+pump
+asyncread
+cachelistener
+mchannelcontext
+nsrelease
+cachelistener
+nssucceeded
+rv
+mcacherequest
+pump
+nscomptr
+nsiimapurl
+imapurl
+doqueryinterface
+murl
+imapurl
+setmsgloadingfromcache
+prtrue
+imapurl
+setmockchannel
+nsnull
+nscomptr
+nsisupports
+securityinfo
+entry
+getsecurityinfo
+getteraddrefs
+securityinfo
+setsecurityinfo
+securityinfo
+nsok
+rv
+nserrorfailure
+rv
+nsresult
+nsimapmockchannel
+readfromimapconnection
+nsresult
+rv
+nsok
+nscomptr
+nsiimapurl
+imapurl
+doqueryinterface
+murl
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+murl
+imapurl
+addchanneltoloadgroup
+nscomptr
+nsimsgincomingserver
+server
+rv
+mailnewsurl
+getserver
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiimapincomingserver
+imapserver
+doqueryinterface
+server
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsieventqueue
+queue
+nscomptr
+nsieventqueueservice
+peventqservice
+dogetservice
+keventqueueservicecid
+rv
+nsensuresuccess
+rv
+rv
+rv
+peventqservice
+getthreadeventqueue
+nscurrentthread
+getteraddrefs
+queue
+nsensuresuccess
+rv
+rv
+rv
+imapserver
+getimapconnectionandloadurl
+queue
+imapurl
+nsnull
+rv
+prbool
+nsimapmockchannel
+readfromlocalcache
+nsresult
+rv
+nsok
+nscomptr
+nsiimapurl
+imapurl
+doqueryinterface
+murl
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+murl
+rv
+prbool
+uselocalcache
+prfalse
+mailnewsurl
+getmsgisinlocalcache
+uselocalcache
+uselocalcache
+nsxpidlcstring
+messageidstring
+setuppartextractorlistener
+imapurl
+mchannellistener
+imapurl
+createlistofmessageidsstring
+gettercopies
+messageidstring
+nscomptr
+nsimsgfolder
+folder
+rv
+mailnewsurl
+getfolder
+getteraddrefs
+folder
+folder
+nssucceeded
+rv
+nscomptr
+nsiinputstream
+filestream
+nsmsgkey
+msgkey
+atoi
+messageidstring
+pruint
+size
+offset
+rv
+folder
+getofflinefilestream
+msgkey
+offset
+size
+getteraddrefs
+filestream
+filestream
+nssucceeded
+rv
+imapurl
+setmockchannel
+nsnull
+nsimapcachestreamlistener
+cachelistener
+nsimapcachestreamlistener
+nsaddref
+cachelistener
+cachelistener
+init
+mchannellistener
+nscomptr
+nsiinputstreampump
+pump
+rv
+nsnewinputstreampump
+getteraddrefs
+pump
+filestream
+offset
+size
+nssucceeded
+rv
+rv
+pump
+asyncread
+cachelistener
+mchannelcontext
+nsrelease
+cachelistener
+nssucceeded
+rv
+imapurl
+setmsgloadingfromcache
+prtrue
+prtrue
+prfalse
+nsimethodimp
+nsimapmockchannel
+asyncopen
+nsistreamlistener
+listener
+nsisupports
+ctxt
+nsresult
+rv
+nsok
+print
+port
+murl
+nserrornullpointer
+rv
+murl
+getport
+port
+nsfailed
+rv
+rv
+rv
+nscheckportsafety
+port
+imap
+nsfailed
+rv
+rv
+mchannelcontext
+ctxt
+mchannellistener
+listener
+nscomptr
+nsiimapurl
+imapurl
+doqueryinterface
+murl
+nsimapaction
+imapaction
+imapurl
+getimapaction
+imapaction
+prbool
+externallink
+prtrue
+imapurl
+getexternallinkurl
+externallink
+externallink
+imapaction
+nsiimapurl
+nsimapselectfolder
+imapaction
+nsiimapurl
+nsimapmsgfetch
+imapaction
+nsiimapurl
+nsimapopenmimepart
+imapaction
+nsiimapurl
+nsimapmsgfetchpeek
+nserrorfailure
+readfromlocalcache
+notifystartendreadfromcache
+prtrue
+nsok
+imapaction
+nsiimapurl
+nsimapmsgdownloadforoffline
+rv
+opencacheentry
+nssucceeded
+rv
+rv
+setuppartextractorlistener
+imapurl
+mchannellistener
+readfromimapconnection
+nsresult
+nsimapmockchannel
+setuppartextractorlistener
+nsiimapurl
+aurl
+nsistreamlistener
+aconsumer
+prbool
+referstopart
+prfalse
+aurl
+getmimepartselectordetected
+referstopart
+referstopart
+nscomptr
+nsistreamconverterservice
+converter
+dogetservice
+streamconverters
+converter
+aconsumer
+nscomptr
+nsistreamlistener
+newconsumer
+converter
+asyncconvertdata
+nsliteralstring
+message
+rfc
+get
+nsliteralstring
+get
+aconsumer
+nsstaticcast
+nsichannel
+getteraddrefs
+newconsumer
+newconsumer
+mchannellistener
+newconsumer
+nsok
+nsimethodimp
+nsimapmockchannel
+getloadflags
+nsloadflags
+aloadflags
+aloadflags
+mloadflags
+nsok
+nsimethodimp
+nsimapmockchannel
+setloadflags
+nsloadflags
+aloadflags
+mloadflags
+aloadflags
+nsok
+nsimethodimp
+nsimapmockchannel
+getcontenttype
+nsacstring
+acontenttype
+mcontenttype
+isempty
+nsimapaction
+imapaction
+murl
+nscomptr
+nsiimapurl
+imapurl
+doqueryinterface
+murl
+imapurl
+imapurl
+getimapaction
+imapaction
+imapaction
+nsiimapurl
+nsimapselectfolder
+acontenttype
+nsliteralcstring
+application
+imapfolder
+acontenttype
+nsliteralcstring
+message
+rfc
+acontenttype
+mcontenttype
+nsok
+nsimethodimp
+nsimapmockchannel
+setcontenttype
+nsacstring
+acontenttype
+mcontenttype
+acontenttype
+nsok
+nsimethodimp
+nsimapmockchannel
+getcontentcharset
+nsacstring
+acontentcharset
+acontentcharset
+truncate
+nsok
+nsimethodimp
+nsimapmockchannel
+setcontentcharset
+nsacstring
+acontentcharset
+nswarning
+nsimapmockchannel
+setcontentcharset
+implemented
+nserrornotimplemented
+nsimethodimp
+nsimapmockchannel
+getcontentlength
+print
+acontentlength
+acontentlength
+nsok
+nsimethodimp
+nsimapmockchannel
+setcontentlength
+print
+acontentlength
+nsnotreached
+nsimapmockchannel
+setcontentlength
+nserrornotimplemented
+nsimethodimp
+nsimapmockchannel
+getowner
+nsisupports
+aprincipal
+aprincipal
+mowner
+nsifaddref
+aprincipal
+nsok
+nsimethodimp
+nsimapmockchannel
+setowner
+nsisupports
+aprincipal
+mowner
+aprincipal
+nsok
+nsimethodimp
+nsimapmockchannel
+getsecurityinfo
+nsisupports
+asecurityinfo
+nsifaddref
+asecurityinfo
+msecurityinfo
+nsok
+nsimethodimp
+nsimapmockchannel
+setsecurityinfo
+nsisupports
+asecurityinfo
+msecurityinfo
+asecurityinfo
+nsok
+nsimethodimp
+nsimapmockchannel
+getname
+nsacstring
+result
+nserrornotimplemented
+nsimethodimp
+nsimapmockchannel
+ispending
+prbool
+result
+result
+prtrue
+nsok
+nsimethodimp
+nsimapmockchannel
+getstatus
+nsresult
+status
+status
+mcancelstatus
+nsok
+nsimethodimp
+nsimapmockchannel
+cancel
+nsresult
+status
+mcancelstatus
+status
+murl
+prbool
+readingfrommemcache
+prfalse
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+murl
+nscomptr
+nsiimapurl
+imapurl
+doqueryinterface
+murl
+imapurl
+getmsgloadingfromcache
+readingfrommemcache
+readingfrommemcache
+nscomptr
+nsicacheentrydescriptor
+cacheentry
+mailnewsurl
+getmemcacheentry
+getteraddrefs
+cacheentry
+cacheentry
+cacheentry
+doom
+nsok
+nsimethodimp
+nsimapmockchannel
+suspend
+nsnotreached
+nsimapmockchannel
+suspend
+nserrornotimplemented
+nsimethodimp
+nsimapmockchannel
+resume
+nsnotreached
+nsimapmockchannel
+resume
+nserrornotimplemented
+nsimethodimp
+nsimapmockchannel
+getnotificationcallbacks
+nsiinterfacerequestor
+anotificationcallbacks
+anotificationcallbacks
+mcallbacks
+get
+nsifaddref
+anotificationcallbacks
+nsok
+nsimethodimp
+nsimapmockchannel
+setnotificationcallbacks
+nsiinterfacerequestor
+anotificationcallbacks
+mcallbacks
+anotificationcallbacks
+mcallbacks
+nscomptr
+nsiprogresseventsink
+progresssink
+mcallbacks
+getinterface
+nsgetiid
+nsiprogresseventsink
+getteraddrefs
+progresssink
+progresssink
+mprogresseventsink
+progresssink
+nsok
+nsimethodimp
+nsimapmockchannel
+ontransportstatus
+nsitransport
+transport
+nsresult
+status
+pruint
+progress
+pruint
+progressmax
+mprogresseventsink
+nssucceeded
+mcancelstatus
+mloadflags
+loadbackground
+status
+nsisockettransport
+statusreceivingfrom
+status
+nsisockettransport
+statussendingto
+mprogresseventsink
+onprogress
+nsnull
+progress
+progressmax
+nscautostring
+host
+murl
+murl
+gethost
+host
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+murl
+mailnewsurl
+nscomptr
+nsimsgincomingserver
+server
+nsresult
+rv
+mailnewsurl
+getserver
+getteraddrefs
+server
+nssucceeded
+rv
+server
+nsxpidlcstring
+realhostname
+rv
+server
+getrealhostname
+gettercopies
+realhostname
+nssucceeded
+rv
+host
+realhostname
+mprogresseventsink
+onstatus
+nsnull
+status
+nsconvertutftoucs
+host
+get
+nsok nsresult
\ No newline at end of file
@@ -0,0 +1,890 @@
+nscore
+msgcore
+nspr
+nsieventqueueservice
+nsiimapmailfoldersink
+nsiimapmessagesink
+nsiimapextensionsink
+nsiimapurl
+nsiimapmiscellaneoussink
+nsimapproxyevent
+nsimapnamespace
+nsimapcore
+nscomptr
+nsimapevent
+nsimapevent
+mnotifycompletion
+prfalse
+nsimapevent
+nsimapevent
+nsimapevent
+setnotifycompletion
+prbool
+notifycompletion
+mnotifycompletion
+notifycompletion
+nsimapevent
+initevent
+plinitevent
+nsnull
+plhandleeventproc
+imapeventhandler
+pldestroyeventproc
+imapeventdestructor
+nsimapevent
+postevent
+nsieventqueue
+aeventq
+nsprecondition
+nsnull
+aeventq
+postevent
+aeventq
+is
+initevent
+aeventq
+postevent
+prcallback
+nsimapevent
+imapeventhandler
+plevent
+aevent
+nsimapevent
+ev
+nsimapevent
+aevent
+ev
+handleevent
+prcallback
+nsimapevent
+imapeventdestructor
+plevent
+aevent
+nsimapevent
+ev
+nsimapevent
+aevent
+ev
+nsimapproxybase
+nsimapproxybase
+nsiimapprotocol
+aprotocol
+nsieventqueue
+aeventq
+prthread
+athread
+nsassertion
+aprotocol
+aeventq
+athread
+nsimapproxy
+invalid
+aprotocol
+aeventq
+athread
+mprotocol
+aprotocol
+nsifaddref
+mprotocol
+meventqueue
+aeventq
+nsifaddref
+meventqueue
+mthread
+athread
+nsimapproxybase
+nsimapproxybase
+nsifrelease
+mprotocol
+nsifrelease
+meventqueue
+nsimapextensionsinkproxy
+nsimapextensionsinkproxy
+nsiimapextensionsink
+aimapextensionsink
+nsiimapprotocol
+aprotocol
+nsieventqueue
+aeventq
+prthread
+athread
+nsimapproxybase
+aprotocol
+aeventq
+athread
+nsassertion
+aimapextensionsink
+nsimapextensionsinkproxy
+invalid
+aimapextensionsink
+mrealimapextensionsink
+aimapextensionsink
+nsifaddref
+mrealimapextensionsink
+nsimapextensionsinkproxy
+nsimapextensionsinkproxy
+nsifrelease
+mrealimapextensionsink
+nsimplthreadsafeisupports
+nsimapextensionsinkproxy
+nsiimapextensionsink
+nsimethodimp
+nsimapextensionsinkproxy
+clearfolderrights
+nsiimapprotocol
+aprotocol
+nsimapaclrightsinfo
+aclrights
+nsresult
+res
+nsok
+nsprecondition
+aclrights
+oops
+aclrights
+aclrights
+nserrornullpointer
+nsassertion
+mprotocol
+aprotocol
+ooh
+ooh
+wrong
+protocol
+prgetcurrentthread
+mthread
+clearfolderrightsproxyevent
+ev
+clearfolderrightsproxyevent
+aclrights
+nsnull
+ev
+res
+nserroroutofmemory
+ev
+setnotifycompletion
+prtrue
+ev
+postevent
+meventqueue
+res
+mrealimapextensionsink
+clearfolderrights
+aprotocol
+aclrights
+aprotocol
+notifyfeeventcompletion
+res
+nsimethodimp
+nsimapextensionsinkproxy
+setcopyresponseuid
+nsiimapprotocol
+aprotocol
+nsmsgkeyarray
+akeyarray
+msgidstring
+nsiimapurl
+aurl
+nsresult
+res
+nsok
+nsprecondition
+akeyarray
+oops
+akeyarray
+akeyarray
+nserrornullpointer
+nsassertion
+mprotocol
+aprotocol
+ooh
+ooh
+wrong
+protocol
+prgetcurrentthread
+mthread
+setcopyresponseuidproxyevent
+ev
+setcopyresponseuidproxyevent
+akeyarray
+msgidstring
+aurl
+nsnull
+ev
+res
+nserroroutofmemory
+ev
+setnotifycompletion
+prtrue
+ev
+postevent
+meventqueue
+res
+mrealimapextensionsink
+setcopyresponseuid
+aprotocol
+akeyarray
+msgidstring
+aurl
+res
+nsimethodimp
+nsimapextensionsinkproxy
+setappendmsguid
+nsiimapprotocol
+aprotocol
+nsmsgkey
+akey
+nsiimapurl
+aurl
+nsresult
+res
+nsok
+nsassertion
+mprotocol
+aprotocol
+ooh
+ooh
+wrong
+protocol
+prgetcurrentthread
+mthread
+setappendmsguidproxyevent
+ev
+setappendmsguidproxyevent
+akey
+aurl
+nsnull
+ev
+res
+nserroroutofmemory
+ev
+setnotifycompletion
+prtrue
+ev
+postevent
+meventqueue
+res
+mrealimapextensionsink
+setappendmsguid
+aprotocol
+akey
+aurl
+res
+nsimethodimp
+nsimapextensionsinkproxy
+getmessageid
+nsiimapprotocol
+aprotocol
+nscstring
+messageid
+nsiimapurl
+aurl
+nsresult
+res
+nsok
+nsassertion
+mprotocol
+aprotocol
+ooh
+ooh
+wrong
+protocol
+prgetcurrentthread
+mthread
+getmessageidproxyevent
+ev
+getmessageidproxyevent
+messageid
+aurl
+nsnull
+ev
+res
+nserroroutofmemory
+ev
+setnotifycompletion
+prtrue
+ev
+postevent
+meventqueue
+res
+mrealimapextensionsink
+getmessageid
+aprotocol
+messageid
+aurl
+res
+nsimapmiscellaneoussinkproxy
+nsimapmiscellaneoussinkproxy
+nsiimapmiscellaneoussink
+aimapmiscellaneoussink
+nsiimapprotocol
+aprotocol
+nsieventqueue
+aeventq
+prthread
+athread
+nsimapproxybase
+aprotocol
+aeventq
+athread
+nsassertion
+aimapmiscellaneoussink
+nsimapmiscellaneoussinkproxy
+invalid
+aimapmiscellaneoussink
+mrealimapmiscellaneoussink
+aimapmiscellaneoussink
+nsifaddref
+mrealimapmiscellaneoussink
+nsimapmiscellaneoussinkproxy
+nsimapmiscellaneoussinkproxy
+nsifrelease
+mrealimapmiscellaneoussink
+nsimplthreadsafeisupports
+nsimapmiscellaneoussinkproxy
+nsiimapmiscellaneoussink
+nsimethodimp
+nsimapmiscellaneoussinkproxy
+headerfetchcompleted
+nsiimapprotocol
+aprotocol
+nsresult
+res
+nsok
+nsassertion
+mprotocol
+aprotocol
+ooh
+ooh
+wrong
+protocol
+prgetcurrentthread
+mthread
+headerfetchcompletedproxyevent
+ev
+headerfetchcompletedproxyevent
+nsnull
+ev
+res
+nserroroutofmemory
+ev
+setnotifycompletion
+prtrue
+ev
+postevent
+meventqueue
+res
+mrealimapmiscellaneoussink
+headerfetchcompleted
+aprotocol
+aprotocol
+notifyfeeventcompletion
+res
+nsimethodimp
+nsimapmiscellaneoussinkproxy
+setbiffstateandupdate
+nsiimapprotocol
+aprotocol
+nsmsgbiffstate
+biffstate
+nsresult
+res
+nsok
+nsassertion
+mprotocol
+aprotocol
+ooh
+ooh
+wrong
+protocol
+prgetcurrentthread
+mthread
+setbiffstateandupdateproxyevent
+ev
+setbiffstateandupdateproxyevent
+biffstate
+nsnull
+ev
+res
+nserroroutofmemory
+ev
+setnotifycompletion
+prtrue
+ev
+postevent
+meventqueue
+res
+mrealimapmiscellaneoussink
+setbiffstateandupdate
+aprotocol
+biffstate
+aprotocol
+notifyfeeventcompletion
+res
+nsimethodimp
+nsimapmiscellaneoussinkproxy
+progressstatus
+nsiimapprotocol
+aprotocol
+pruint
+amsgid
+prunichar
+extrainfo
+nsresult
+res
+nsok
+nsassertion
+mprotocol
+aprotocol
+ooh
+ooh
+wrong
+protocol
+prgetcurrentthread
+mthread
+progressstatusproxyevent
+ev
+progressstatusproxyevent
+amsgid
+extrainfo
+nsnull
+ev
+res
+nserroroutofmemory
+ev
+postevent
+meventqueue
+res
+mrealimapmiscellaneoussink
+progressstatus
+aprotocol
+amsgid
+extrainfo
+res
+nsimethodimp
+nsimapmiscellaneoussinkproxy
+percentprogress
+nsiimapprotocol
+aprotocol
+progressinfo
+ainfo
+nsresult
+res
+nsok
+nsprecondition
+ainfo
+oops
+ainfo
+ainfo
+nserrornullpointer
+nsassertion
+mprotocol
+aprotocol
+ooh
+ooh
+wrong
+protocol
+prgetcurrentthread
+mthread
+percentprogressproxyevent
+ev
+percentprogressproxyevent
+ainfo
+nsnull
+ev
+res
+nserroroutofmemory
+ev
+postevent
+meventqueue
+res
+mrealimapmiscellaneoussink
+percentprogress
+aprotocol
+ainfo
+res
+nsimapextensionsinkproxyevent
+nsimapextensionsinkproxyevent
+nsimapextensionsinkproxy
+aproxy
+nsassertion
+aproxy
+fatal
+imap
+extension
+proxy
+mproxy
+aproxy
+nsifaddref
+mproxy
+nsimapextensionsinkproxyevent
+nsimapextensionsinkproxyevent
+nsifrelease
+mproxy
+clearfolderrightsproxyevent
+clearfolderrightsproxyevent
+nsimapextensionsinkproxy
+aproxy
+nsimapaclrightsinfo
+aclrights
+nsimapextensionsinkproxyevent
+aproxy
+nsassertion
+aclrights
+oops
+acl
+rights
+info
+aclrights
+maclrightsinfo
+hostname
+plstrdup
+aclrights
+hostname
+maclrightsinfo
+mailboxname
+plstrdup
+aclrights
+mailboxname
+maclrightsinfo
+username
+plstrdup
+aclrights
+username
+maclrightsinfo
+rights
+plstrdup
+aclrights
+rights
+maclrightsinfo
+hostname
+nsnull
+maclrightsinfo
+mailboxname
+nsnull
+maclrightsinfo
+username
+nsnull
+maclrightsinfo
+rights
+nsnull
+clearfolderrightsproxyevent
+clearfolderrightsproxyevent
+maclrightsinfo
+hostname
+plstrfree
+maclrightsinfo
+hostname
+maclrightsinfo
+mailboxname
+plstrfree
+maclrightsinfo
+mailboxname
+maclrightsinfo
+username
+plstrfree
+maclrightsinfo
+username
+maclrightsinfo
+rights
+plstrfree
+maclrightsinfo
+rights
+nsimethodimp
+clearfolderrightsproxyevent
+handleevent
+nsresult
+res
+mproxy
+mrealimapextensionsink
+clearfolderrights
+mproxy
+mprotocol
+maclrightsinfo
+mnotifycompletion
+mproxy
+mprotocol
+notifyfeeventcompletion
+res
+setcopyresponseuidproxyevent
+setcopyresponseuidproxyevent
+nsimapextensionsinkproxy
+aproxy
+nsmsgkeyarray
+akeyarray
+msgidstring
+nsiimapurl
+aurl
+nsimapextensionsinkproxyevent
+aproxy
+mmsgidstring
+msgidstring
+nsassertion
+akeyarray
+oops
+key
+array
+akeyarray
+mcopykeyarray
+copyarray
+akeyarray
+murl
+aurl
+setcopyresponseuidproxyevent
+setcopyresponseuidproxyevent
+nsimethodimp
+setcopyresponseuidproxyevent
+handleevent
+nsresult
+res
+mproxy
+mrealimapextensionsink
+setcopyresponseuid
+mproxy
+mprotocol
+mcopykeyarray
+mmsgidstring
+get
+murl
+mnotifycompletion
+mproxy
+mprotocol
+notifyfeeventcompletion
+res
+setappendmsguidproxyevent
+setappendmsguidproxyevent
+nsimapextensionsinkproxy
+aproxy
+nsmsgkey
+akey
+nsiimapurl
+aurl
+nsimapextensionsinkproxyevent
+aproxy
+mkey
+akey
+murl
+aurl
+setappendmsguidproxyevent
+setappendmsguidproxyevent
+nsimethodimp
+setappendmsguidproxyevent
+handleevent
+nsresult
+res
+mproxy
+mrealimapextensionsink
+setappendmsguid
+mproxy
+mprotocol
+mkey
+murl
+mnotifycompletion
+mproxy
+mprotocol
+notifyfeeventcompletion
+res
+getmessageidproxyevent
+getmessageidproxyevent
+nsimapextensionsinkproxy
+aproxy
+nscstring
+messageid
+nsiimapurl
+aurl
+nsimapextensionsinkproxyevent
+aproxy
+mmessageid
+messageid
+murl
+aurl
+getmessageidproxyevent
+getmessageidproxyevent
+nsimethodimp
+getmessageidproxyevent
+handleevent
+nsresult
+res
+mproxy
+mrealimapextensionsink
+getmessageid
+mproxy
+mprotocol
+mmessageid
+murl
+mnotifycompletion
+mproxy
+mprotocol
+notifyfeeventcompletion
+res
+nsimapmiscellaneoussinkproxyevent
+nsimapmiscellaneoussinkproxyevent
+nsimapmiscellaneoussinkproxy
+aproxy
+nsassertion
+aproxy
+fatal
+imap
+miscellaneous
+proxy
+mproxy
+aproxy
+nsifaddref
+mproxy
+nsimapmiscellaneoussinkproxyevent
+nsimapmiscellaneoussinkproxyevent
+nsifrelease
+mproxy
+headerfetchcompletedproxyevent
+headerfetchcompletedproxyevent
+nsimapmiscellaneoussinkproxy
+aproxy
+nsimapmiscellaneoussinkproxyevent
+aproxy
+headerfetchcompletedproxyevent
+headerfetchcompletedproxyevent
+nsimethodimp
+headerfetchcompletedproxyevent
+handleevent
+nsresult
+res
+mproxy
+mrealimapmiscellaneoussink
+headerfetchcompleted
+mproxy
+mprotocol
+mnotifycompletion
+mproxy
+mprotocol
+notifyfeeventcompletion
+res
+setbiffstateandupdateproxyevent
+setbiffstateandupdateproxyevent
+nsimapmiscellaneoussinkproxy
+aproxy
+nsmsgbiffstate
+biffstate
+nsimapmiscellaneoussinkproxyevent
+aproxy
+mbiffstate
+biffstate
+setbiffstateandupdateproxyevent
+setbiffstateandupdateproxyevent
+nsimethodimp
+setbiffstateandupdateproxyevent
+handleevent
+nsresult
+res
+mproxy
+mrealimapmiscellaneoussink
+setbiffstateandupdate
+mproxy
+mprotocol
+mbiffstate
+mnotifycompletion
+mproxy
+mprotocol
+notifyfeeventcompletion
+res
+progressstatusproxyevent
+progressstatusproxyevent
+nsimapmiscellaneoussinkproxy
+aproxy
+pruint
+amsgid
+prunichar
+extrainfo
+nsimapmiscellaneoussinkproxyevent
+aproxy
+mstatusmsgid
+amsgid
+mextrainfo
+extrainfo
+nscrt
+strdup
+extrainfo
+nsnull
+progressstatusproxyevent
+progressstatusproxyevent
+mextrainfo
+nscrt
+free
+mextrainfo
+nsimethodimp
+progressstatusproxyevent
+handleevent
+nsresult
+res
+mproxy
+mrealimapmiscellaneoussink
+progressstatus
+mproxy
+mprotocol
+mstatusmsgid
+mextrainfo
+mnotifycompletion
+mproxy
+mprotocol
+notifyfeeventcompletion
+res
+percentprogressproxyevent
+percentprogressproxyevent
+nsimapmiscellaneoussinkproxy
+aproxy
+progressinfo
+ainfo
+nsimapmiscellaneoussinkproxyevent
+aproxy
+nsassertion
+ainfo
+oops
+progress
+info
+ainfo
+mprogressinfo
+message
+ainfo
+message
+nscrt
+strdup
+ainfo
+message
+nsnull
+mprogressinfo
+currentprogress
+ainfo
+currentprogress
+mprogressinfo
+maxprogress
+ainfo
+maxprogress
+mprogressinfo
+message
+nsnull
+mprogressinfo
+maxprogress
+mprogressinfo
+currentprogress
+percentprogressproxyevent
+percentprogressproxyevent
+mprogressinfo
+message
+prfree
+mprogressinfo
+message
+nsimethodimp
+percentprogressproxyevent
+handleevent
+nsresult
+res
+mproxy
+mrealimapmiscellaneoussink
+percentprogress
+mproxy
+mprotocol
+mprogressinfo
+mnotifycompletion
+mproxy
+mprotocol
+notifyfeeventcompletion
+res
\ No newline at end of file
@@ -0,0 +1,80 @@
+msgcore
+nsimapcore
+nsimapsearchresults
+nsimapsearchresultsequence
+nsimapsearchresultsequence
+nsimapsearchresultsequence
+nsimapsearchresultsequence
+createsearchresultsequence
+nsimapsearchresultsequence
+returnobject
+nsimapsearchresultsequence
+returnobject
+returnobject
+returnobject
+nsnull
+returnobject
+nsimapsearchresultsequence
+clear
+mimpl
+print
+mimpl
+mcount
+mimpl
+marray
+nsvoidarray
+clear
+nsimapsearchresultsequence
+nsimapsearchresultsequence
+clear
+nsimapsearchresultsequence
+resetsequence
+clear
+nsimapsearchresultsequence
+addsearchresultline
+searchline
+copiedsequence
+plstrdup
+searchline
+copiedsequence
+appendelement
+copiedsequence
+nsimapsearchresultiterator
+nsimapsearchresultiterator
+nsimapsearchresultsequence
+sequence
+fsequence
+sequence
+resetiterator
+nsimapsearchresultiterator
+nsimapsearchresultiterator
+nsimapsearchresultiterator
+resetiterator
+fsequenceindex
+fcurrentline
+fsequence
+safeelementat
+fsequenceindex
+fpositionincurrentline
+fcurrentline
+print
+nsimapsearchresultiterator
+getnextmessagenumber
+int
+returnvalue
+fpositionincurrentline
+returnvalue
+atoi
+fpositionincurrentline
+isdigit
+fpositionincurrentline
+fpositionincurrentline
+xd
+fcurrentline
+fsequence
+safeelementat
+fsequenceindex
+fpositionincurrentline
+fcurrentline
+fpositionincurrentline
+returnvalue nsresult
\ No newline at end of file
@@ -0,0 +1,3301 @@
+ifdef
+mozlogging
+define
+forceprlog
+endif
+msgcore
+nsmimetypes
+nsimapcore
+nsimapprotocol
+nsimapserverresponseparser
+nsimapbodyshell
+nsimapflaganduidstate
+nsimapnamespace
+nsimapstringbundle
+nsimaputils
+prlogmoduleinfo
+imap
+nsimapserverresponseparser
+nsimapserverresponseparser
+nsimapprotocol
+imapprotocolconnection
+nsimapgenericparser
+freportingerrors
+prtrue
+fcurrentfolderreadonly
+prfalse
+fcurrentlinecontainedflaginfo
+prfalse
+ffetcheverythingrfc
+prfalse
+fserverisnetscapexserver
+prfalse
+fnumberofunseenmessages
+fnumberofexistingmessages
+fnumberofrecentmessages
+fsizeofmostrecentmessage
+ftotaldownloadsize
+fcurrentcommandtag
+nsnull
+fselectedmailboxname
+nsnull
+fimapstate
+knonauthenticated
+flastchunk
+prfalse
+mshell
+nsnull
+fserverconnection
+imapprotocolconnection
+fhostsessionlist
+nsnull
+fsearchresults
+nsimapsearchresultsequence
+createsearchresultsequence
+fmailaccounturl
+nsnull
+fmanagefiltersurl
+nsnull
+fmanagelistsurl
+nsnull
+ffolderadminurl
+nsnull
+fnetscapeserverversionstring
+nsnull
+fxsenderinfo
+nsnull
+fsupportsuserdefinedflags
+fsettablepermanentflags
+fcapabilityflag
+kcapabilityundefined
+flastalert
+nsnull
+fdownloadingheaders
+prfalse
+fgotpermanentflags
+prfalse
+ffolderuidvalidity
+fcramdigest
+nsnull
+nsimapserverresponseparser
+nsimapserverresponseparser
+prfree
+fcurrentcommandtag
+fsearchresults
+prfree
+fmailaccounturl
+prfree
+ffolderadminurl
+prfree
+fnetscapeserverversionstring
+prfree
+fxsenderinfo
+prfree
+flastalert
+prfree
+fmanagelistsurl
+prfree
+fmanagefiltersurl
+prfree
+fselectedmailboxname
+prfree
+fcramdigest
+nsifrelease
+fhostsessionlist
+fcopyresponsekeyarray
+removeall
+prbool
+nsimapserverresponseparser
+lastcommandsuccessful
+commandfailed
+fserverconnection
+deathsignalreceived
+nsimapgenericparser
+lastcommandsuccessful
+prbool
+nsimapserverresponseparser
+getnextlineforparser
+nextline
+prbool
+rv
+prtrue
+nextline
+fserverconnection
+createnewlinefromsocket
+fserverconnection
+deathsignalreceived
+fserverconnection
+getconnectionstatus
+rv
+prfalse
+fserverconnection
+getconnectionstatus
+fserverconnection
+deathsignalreceived
+fserverconnection
+alertusereventusingid
+imapserverdisconnected
+rv
+nsimapserverresponseparser
+endofline
+atendofline
+setsyntaxerror
+prtrue
+fprocessingtaggedresponse
+fcurrentcommandfailed
+resetlexanalyzer
+fcurrentcommandfailed
+fnexttoken
+getnexttoken
+prbool
+nsimapserverresponseparser
+commandfailed
+fcurrentcommandfailed
+nsimapserverresponseparser
+setflagstate
+nsiimapflaganduidstate
+state
+fflagstate
+state
+print
+nsimapserverresponseparser
+sizeofmostrecentmessage
+fsizeofmostrecentmessage
+nsimapserverresponseparser
+incrementnumberoftaggedresponsesexpected
+newexpectedtag
+fnumberoftaggedresponsesexpected
+prfree
+fcurrentcommandtag
+fcurrentcommandtag
+plstrdup
+newexpectedtag
+fcurrentcommandtag
+handlememoryfailure
+nsimapserverresponseparser
+initializestate
+fprocessingtaggedresponse
+prfalse
+fcurrentcommandfailed
+prfalse
+nsimapserverresponseparser
+parseimapserverresponse
+currentcommand
+prbool
+aignorebadandnoresponses
+nsassertion
+currentcommand
+currentcommand
+currentcommand
+currentcommand
+invailid
+command
+setconnected
+prtrue
+setsyntaxerror
+prfalse
+initializestate
+fnumberoftaggedresponsesexpected
+numberoftaggedresponsesreceived
+copycurrentcommand
+plstrdup
+currentcommand
+copycurrentcommand
+fserverconnection
+deathsignalreceived
+placeintokenstring
+nsnull
+tagtoken
+imapstrtokr
+copycurrentcommand
+whitespace
+placeintokenstring
+commandtoken
+imapstrtokr
+nsnull
+whitespace
+placeintokenstring
+tagtoken
+prfree
+fcurrentcommandtag
+fcurrentcommandtag
+plstrdup
+tagtoken
+fcurrentcommandtag
+handlememoryfailure
+commandtoken
+continueparse
+preprocesscommandtoken
+commandtoken
+currentcommand
+continueparse
+setsyntaxerror
+prfalse
+resetlexanalyzer
+fnexttoken
+getnexttoken
+continueparse
+plstrcmp
+fnexttoken
+responsedata
+fnexttoken
+nsassertion
+fnumberoftaggedresponsesexpected
+numberoftaggedresponsesreceived
+didn
+get
+the
+number
+of
+tagged
+responses
+we
+expected
+numberoftaggedresponsesreceived
+fnumberoftaggedresponsesexpected
+commandtoken
+nscrt
+strcasecmp
+commandtoken
+authenticate
+placeintokenstring
+nscrt
+strncasecmp
+placeintokenstring
+cram
+md
+strlen
+cram
+md
+cramresponsedata
+numberoftaggedresponsesreceived
+numberoftaggedresponsesreceived
+fnumberoftaggedresponsesexpected
+responsetagged
+fprocessingtaggedresponse
+prfalse
+continueparse
+numberoftaggedresponsesreceived
+fnumberoftaggedresponsesexpected
+fnexttoken
+fwaitingformoreclientinput
+prtrue
+fwaitingformoreclientinput
+continueparse
+responsedone
+continueparse
+commandfailed
+processokcommand
+commandtoken
+commandfailed
+processbadcommand
+commandtoken
+freportingerrors
+aignorebadandnoresponses
+fserverconnection
+alertusereventfromserver
+fcurrentline
+fserverconnection
+deathsignalreceived
+handlememoryfailure
+prfree
+copycurrentcommand
+nsimapserverresponseparser
+handlememoryfailure
+fserverconnection
+alertusereventusingid
+imapoutofmemory
+nsimapgenericparser
+handlememoryfailure
+nsimapserverresponseparser
+preprocesscommandtoken
+commandtoken
+currentcommand
+fcurrentcommandissinglemessagefetch
+prfalse
+fwaitingformoreclientinput
+prfalse
+plstrcasecmp
+commandtoken
+search
+fsearchresults
+resetsequence
+plstrcasecmp
+commandtoken
+select
+currentcommand
+openquote
+plstrstr
+currentcommand
+nsassertion
+openquote
+expected
+open
+quote
+in
+imap
+server
+response
+openquote
+openquote
+plstrstr
+currentcommand
+prfree
+fselectedmailboxname
+fselectedmailboxname
+plstrdup
+openquote
+fselectedmailboxname
+currentchar
+fselectedmailboxname
+currentchar
+currentchar
+plstrcpy
+currentchar
+currentchar
+currentchar
+currentchar
+currentchar
+currentchar
+handlememoryfailure
+plstrcasecmp
+commandtoken
+close
+plstrcasecmp
+commandtoken
+uid
+copycurrentcommand
+plstrdup
+currentcommand
+copycurrentcommand
+fserverconnection
+deathsignalreceived
+placeintokenstring
+nsnull
+tagtoken
+imapstrtokr
+copycurrentcommand
+whitespace
+placeintokenstring
+uidtoken
+imapstrtokr
+nsnull
+whitespace
+placeintokenstring
+fetchtoken
+imapstrtokr
+nsnull
+whitespace
+placeintokenstring
+uidtoken
+nsnull
+tagtoken
+nsnull
+plstrcasecmp
+fetchtoken
+fetch
+uidstringtoken
+imapstrtokr
+nsnull
+whitespace
+placeintokenstring
+plstrchr
+uidstringtoken
+plstrchr
+uidstringtoken
+fcurrentcommandissinglemessagefetch
+prtrue
+fuidofsinglemessagefetch
+atoi
+uidstringtoken
+prfree
+copycurrentcommand
+nsimapserverresponseparser
+getselectedmailboxname
+fselectedmailboxname
+nsimapsearchresultiterator
+nsimapserverresponseparser
+createsearchresultiterator
+nsimapsearchresultiterator
+fsearchresults
+nsimapserverresponseparser
+eimapstate
+nsimapserverresponseparser
+getimapstate
+fimapstate
+nsimapserverresponseparser
+preauthsetauthenticatedstate
+fimapstate
+kauthenticated
+nsimapserverresponseparser
+processokcommand
+commandtoken
+plstrcasecmp
+commandtoken
+login
+plstrcasecmp
+commandtoken
+authenticate
+fimapstate
+kauthenticated
+plstrcasecmp
+commandtoken
+logout
+fimapstate
+knonauthenticated
+plstrcasecmp
+commandtoken
+select
+plstrcasecmp
+commandtoken
+examine
+fimapstate
+kfolderselected
+plstrcasecmp
+commandtoken
+close
+fimapstate
+kauthenticated
+prfreeif
+fselectedmailboxname
+plstrcasecmp
+commandtoken
+list
+plstrcasecmp
+commandtoken
+lsub
+plstrcasecmp
+commandtoken
+fetch
+fzerolengthmessageuidstring
+isempty
+fserverconnection
+store
+fzerolengthmessageuidstring
+get
+flags
+deleted
+prtrue
+lastcommandsuccessful
+fserverconnection
+expunge
+fzerolengthmessageuidstring
+truncate
+getfillinginshell
+mshell
+isbeinggenerated
+nsimapprotocol
+navcon
+fserverconnection
+imappart
+nsnull
+fserverconnection
+getcurrenturl
+getimapparttofetch
+imappart
+mshell
+generate
+imappart
+prfree
+imappart
+navcon
+navcon
+getpseudointerrupted
+fserverconnection
+deathsignalreceived
+mshell
+isshellcached
+mshell
+navcon
+pseudointerrupt
+prfalse
+mshell
+getisvalid
+mshell
+isshellcached
+fhostsessionlist
+prlog
+imap
+prlogalways
+bodyshell
+adding
+shell
+to
+cache
+serverkey
+fserverconnection
+getimapserverkey
+fhostsessionlist
+addshelltocacheforhost
+serverkey
+mshell
+mshell
+mshell
+nsnull
+nsimapserverresponseparser
+processbadcommand
+commandtoken
+plstrcasecmp
+commandtoken
+login
+plstrcasecmp
+commandtoken
+authenticate
+fimapstate
+knonauthenticated
+plstrcasecmp
+commandtoken
+logout
+fimapstate
+knonauthenticated
+plstrcasecmp
+commandtoken
+select
+plstrcasecmp
+commandtoken
+examine
+fimapstate
+kauthenticated
+plstrcasecmp
+commandtoken
+close
+fimapstate
+kauthenticated
+getfillinginshell
+mshell
+isbeinggenerated
+mshell
+mshell
+nsnull
+nsimapserverresponseparser
+responsedata
+fnexttoken
+getnexttoken
+continueparse
+toupper
+fnexttoken
+toupper
+fnexttoken
+respcondstate
+setsyntaxerror
+prtrue
+toupper
+fnexttoken
+respcondstate
+plstrcasecmp
+fnexttoken
+namespace
+namespacedata
+setsyntaxerror
+prtrue
+plstrcasecmp
+fnexttoken
+bad
+respcondstate
+plstrcasecmp
+fnexttoken
+bye
+respcondbye
+setsyntaxerror
+prtrue
+plstrcasecmp
+fnexttoken
+flags
+mailboxdata
+setsyntaxerror
+prtrue
+plstrcasecmp
+fnexttoken
+permanentflags
+mailboxdata
+setsyntaxerror
+prtrue
+plstrcasecmp
+fnexttoken
+list
+plstrcasecmp
+fnexttoken
+lsub
+mailboxdata
+plstrcasecmp
+fnexttoken
+language
+languagedata
+setsyntaxerror
+prtrue
+plstrcasecmp
+fnexttoken
+mailbox
+mailboxdata
+plstrcasecmp
+fnexttoken
+myrights
+myrightsdata
+setsyntaxerror
+prtrue
+plstrcasecmp
+fnexttoken
+search
+mailboxdata
+plstrcasecmp
+fnexttoken
+status
+prbool
+gotmailboxname
+prfalse
+continueparse
+atendofline
+fnexttoken
+getnexttoken
+fnexttoken
+gotmailboxname
+fcurrenttokenplaceholder
+plstrchr
+fcurrenttokenplaceholder
+gotmailboxname
+prtrue
+fnexttoken
+fnexttoken
+plstrcasecmp
+fnexttoken
+uidnext
+fnexttoken
+getnexttoken
+fnexttoken
+fcurrentresponseuid
+atoi
+fnexttoken
+fnexttoken
+strlen
+fnexttoken
+fnexttoken
+strlen
+fnexttoken
+plstrcasecmp
+fnexttoken
+messages
+fnexttoken
+getnexttoken
+fnexttoken
+fnumberofexistingmessages
+atoi
+fnexttoken
+fnexttoken
+strlen
+fnexttoken
+fnexttoken
+strlen
+fnexttoken
+plstrcasecmp
+fnexttoken
+unseen
+fnexttoken
+getnexttoken
+fnexttoken
+fnumberofunseenmessages
+atoi
+fnexttoken
+fnexttoken
+strlen
+fnexttoken
+fnexttoken
+strlen
+fnexttoken
+fnexttoken
+atendofline
+setsyntaxerror
+prtrue
+setsyntaxerror
+prtrue
+plstrcasecmp
+fnexttoken
+capability
+capabilitydata
+setsyntaxerror
+prtrue
+plstrcasecmp
+fnexttoken
+version
+prfreeif
+fnetscapeserverversionstring
+fnexttoken
+getnexttoken
+fnexttoken
+setsyntaxerror
+prtrue
+fnetscapeserverversionstring
+createastring
+fnexttoken
+getnexttoken
+fnetscapeserverversionstring
+fserverisnetscapexserver
+fnetscapeserverversionstring
+skiptocrlf
+setsyntaxerror
+prtrue
+plstrcasecmp
+fnexttoken
+acl
+acldata
+plstrcasecmp
+fnexttoken
+account
+url
+prfreeif
+fmailaccounturl
+fnexttoken
+getnexttoken
+fnexttoken
+setsyntaxerror
+prtrue
+fmailaccounturl
+createastring
+fnexttoken
+getnexttoken
+setsyntaxerror
+prtrue
+plstrcasecmp
+fnexttoken
+xserverinfo
+xserverinfodata
+plstrcasecmp
+fnexttoken
+xmailboxinfo
+xmailboxinfodata
+plstrcasecmp
+fnexttoken
+xaol
+option
+skiptocrlf
+nsxpidlcstring
+customcommand
+fserverconnection
+getcurrenturl
+getcommand
+gettercopies
+customcommand
+customcommand
+equals
+fnexttoken
+nscautostring
+customcommandresponse
+connected
+atendofline
+fnexttoken
+getnexttoken
+customcommandresponse
+append
+fnexttoken
+customcommandresponse
+append
+fserverconnection
+getcurrenturl
+setcustomcommandresult
+customcommandresponse
+get
+setsyntaxerror
+prtrue
+plstrcasecmp
+fnexttoken
+quotaroot
+plstrcasecmp
+fnexttoken
+quota
+quotadata
+setsyntaxerror
+prtrue
+isnumericstring
+fnexttoken
+numericmailboxdata
+setsyntaxerror
+prtrue
+continueparse
+postprocessendofline
+endofline
+nsimapserverresponseparser
+postprocessendofline
+fcurrentlinecontainedflaginfo
+currentresponseuid
+fcurrentlinecontainedflaginfo
+prfalse
+fserverconnection
+notifymessageflags
+fsavedflaginfo
+currentresponseuid
+nsimapserverresponseparser
+mailboxdata
+plstrcasecmp
+fnexttoken
+flags
+fgotpermanentflags
+skiptocrlf
+parsefolderflags
+plstrcasecmp
+fnexttoken
+list
+fnexttoken
+getnexttoken
+continueparse
+mailboxlist
+prfalse
+plstrcasecmp
+fnexttoken
+lsub
+fnexttoken
+getnexttoken
+continueparse
+mailboxlist
+prtrue
+plstrcasecmp
+fnexttoken
+mailbox
+skiptocrlf
+plstrcasecmp
+fnexttoken
+search
+fsearchresults
+addsearchresultline
+fcurrentline
+fserverconnection
+notifysearchhit
+fcurrentline
+skiptocrlf
+nsimapserverresponseparser
+mailboxlist
+prbool
+discoveredfromlsub
+nsimapmailboxspec
+boxspec
+nsimapmailboxspec
+nsaddref
+boxspec
+prbool
+needstofreeboxspec
+prtrue
+boxspec
+handlememoryfailure
+boxspec
+folderselected
+prfalse
+boxspec
+boxflags
+knoflags
+boxspec
+allocatedpathname
+nsnull
+boxspec
+hostname
+nsnull
+boxspec
+connection
+fserverconnection
+boxspec
+flagstate
+nsnull
+boxspec
+discoveredfromlsub
+discoveredfromlsub
+boxspec
+onlineverified
+prtrue
+boxspec
+boxflags
+knamespace
+prbool
+endofflags
+prfalse
+fnexttoken
+plstrncasecmp
+fnexttoken
+marked
+boxspec
+boxflags
+kmarked
+plstrncasecmp
+fnexttoken
+unmarked
+boxspec
+boxflags
+kunmarked
+plstrncasecmp
+fnexttoken
+noinferiors
+boxspec
+boxflags
+knoinferiors
+plstrncasecmp
+fnexttoken
+noselect
+boxspec
+boxflags
+knoselect
+endofflags
+fnexttoken
+strlen
+fnexttoken
+fnexttoken
+getnexttoken
+endofflags
+continueparse
+continueparse
+fnexttoken
+fnexttoken
+fnexttoken
+boxspec
+hierarchyseparator
+fnexttoken
+boxspec
+hierarchyseparator
+fnexttoken
+boxspec
+hierarchyseparator
+konlinehierarchyseparatornil
+fnexttoken
+getnexttoken
+continueparse
+needstofreeboxspec
+prfalse
+mailbox
+boxspec
+needstofreeboxspec
+nsrelease
+boxspec
+nsimapserverresponseparser
+mailbox
+nsimapmailboxspec
+boxspec
+boxname
+nsnull
+serverkey
+fserverconnection
+getimapserverkey
+plstrcasecmp
+fnexttoken
+inbox
+boxname
+plstrdup
+inbox
+fnexttoken
+getnexttoken
+boxname
+createastring
+ftokenizeradvanced
+ftokenizeradvanced
+prfalse
+plstrcmp
+fcurrenttokenplaceholder
+crlf
+fatendofline
+prfalse
+fnexttoken
+getnexttoken
+boxname
+fhostsessionlist
+fhostsessionlist
+setnamespacehierarchydelimiterfrommailboxforhost
+serverkey
+boxname
+boxspec
+hierarchyseparator
+nsimapnamespace
+ns
+nsnull
+fhostsessionlist
+getnamespaceformailboxforhost
+serverkey
+boxname
+ns
+ns
+ns
+gettype
+kpersonalnamespace
+boxspec
+boxflags
+kpersonalmailbox
+kpublicnamespace
+boxspec
+boxflags
+kpublicmailbox
+kotherusersnamespace
+boxspec
+boxflags
+kotherusersmailbox
+boxspec
+namespaceforfolder
+ns
+boxname
+fserverconnection
+deathsignalreceived
+handlememoryfailure
+nsassertion
+boxspec
+connection
+box
+spec
+has
+connection
+nsassertion
+boxspec
+connection
+getcurrenturl
+box
+spec
+has
+connection
+with
+url
+boxspec
+connection
+getcurrenturl
+allocatecanonicalpath
+boxname
+boxspec
+hierarchyseparator
+boxspec
+allocatedpathname
+nsiuri
+aurl
+nsnull
+boxspec
+connection
+getcurrenturl
+queryinterface
+nsgetiid
+nsiuri
+aurl
+aurl
+nscautostring
+host
+aurl
+gethost
+host
+boxspec
+hostname
+tonewcstring
+host
+nsifrelease
+aurl
+boxname
+plstrfree
+boxname
+fserverconnection
+discovermailboxspec
+boxspec
+fserverconnection
+getconnectionstatus
+setconnected
+prfalse
+nsimapserverresponseparser
+numericmailboxdata
+print
+tokennumber
+atoi
+fnexttoken
+fnexttoken
+getnexttoken
+continueparse
+plstrcasecmp
+fnexttoken
+fetch
+ffetchresponseindex
+tokennumber
+fnexttoken
+getnexttoken
+continueparse
+msgfetch
+plstrcasecmp
+fnexttoken
+exists
+fnumberofexistingmessages
+tokennumber
+fnexttoken
+getnexttoken
+plstrcasecmp
+fnexttoken
+recent
+fnumberofrecentmessages
+tokennumber
+fnexttoken
+getnexttoken
+plstrcasecmp
+fnexttoken
+expunge
+fserverconnection
+getignoreexpunges
+fflagstate
+expungebyindex
+pruint
+tokennumber
+skiptocrlf
+msgobsolete
+nsimapserverresponseparser
+msgfetch
+nsresult
+res
+prbool
+bneedendmessagedownload
+prfalse
+fcurrentresponseuid
+fcurrentlinecontainedflaginfo
+prfalse
+fserverconnection
+showprogress
+fnexttoken
+continueparse
+fnexttoken
+plstrcasecmp
+fnexttoken
+flags
+fcurrentresponseuid
+res
+fflagstate
+getuidofmessage
+ffetchresponseindex
+fcurrentresponseuid
+fnexttoken
+getnexttoken
+continueparse
+flags
+continueparse
+fnexttoken
+fnexttoken
+fnexttoken
+getnexttoken
+plstrcasecmp
+fnexttoken
+uid
+fnexttoken
+getnexttoken
+continueparse
+fcurrentresponseuid
+atoi
+fnexttoken
+fcurrentresponseuid
+fhighestrecordeduid
+fhighestrecordeduid
+fcurrentresponseuid
+fnexttoken
+strlen
+fnexttoken
+fnexttoken
+strlen
+fnexttoken
+fnexttoken
+getnexttoken
+plstrcasecmp
+fnexttoken
+rfc
+plstrcasecmp
+fnexttoken
+rfc
+header
+plstrncasecmp
+fnexttoken
+body
+header
+plstrncasecmp
+fnexttoken
+body
+plstrcasecmp
+fnexttoken
+rfc
+text
+plstrncasecmp
+fnexttoken
+body
+plstrstr
+fnexttoken
+header
+fcurrentresponseuid
+fflagstate
+getuidofmessage
+ffetchresponseindex
+fcurrentresponseuid
+plstrcasecmp
+fnexttoken
+rfc
+header
+plstrcasecmp
+fnexttoken
+body
+header
+fnexttoken
+getnexttoken
+fdownloadingheaders
+prtrue
+beginmessagedownload
+messagerfc
+bneedendmessagedownload
+prfalse
+continueparse
+msgfetchheaders
+nsnull
+plstrncasecmp
+fnexttoken
+body
+header
+fields
+fdownloadingheaders
+prtrue
+beginmessagedownload
+messagerfc
+continueparse
+fnexttoken
+strlen
+fnexttoken
+fnexttoken
+getnexttoken
+continueparse
+bneedendmessagedownload
+prfalse
+fnexttoken
+getnexttoken
+continueparse
+msgfetchheaders
+nsnull
+whereheader
+plstrstr
+fnexttoken
+header
+whereheader
+startpartnum
+fnexttoken
+whereheader
+startpartnum
+print
+partlength
+whereheader
+startpartnum
+partnum
+prcalloc
+partlength
+partnum
+plstrncpy
+partnum
+startpartnum
+partlength
+continueparse
+plstrstr
+fnexttoken
+fields
+continueparse
+fnexttoken
+strlen
+fnexttoken
+fnexttoken
+getnexttoken
+continueparse
+fnexttoken
+getnexttoken
+continueparse
+msgfetchheaders
+partnum
+prfree
+partnum
+setsyntaxerror
+prtrue
+fdownloadingheaders
+prfalse
+prbool
+chunk
+prfalse
+print
+origin
+plstrncasecmp
+fnexttoken
+body
+tokencopy
+tokencopy
+plstrdup
+fnexttoken
+tokencopy
+originstring
+tokencopy
+closebracket
+plstrchr
+tokencopy
+closebracket
+originstring
+originstring
+closebracket
+origin
+atoi
+originstring
+chunk
+prtrue
+prfree
+tokencopy
+fnexttoken
+getnexttoken
+continueparse
+msgfetchcontent
+chunk
+origin
+messagerfc
+plstrcasecmp
+fnexttoken
+rfc
+size
+plstrcasecmp
+fnexttoken
+xaol
+size
+fnexttoken
+getnexttoken
+continueparse
+fsizeofmostrecentmessage
+atoi
+fnexttoken
+ffetcheverythingrfc
+settotaldownloadsize
+fsizeofmostrecentmessage
+fsizeofmostrecentmessage
+currentresponseuid
+uidstring
+sprintf
+uidstring
+ld
+currentresponseuid
+fzerolengthmessageuidstring
+isempty
+fzerolengthmessageuidstring
+fzerolengthmessageuidstring
+uidstring
+fnexttoken
+strlen
+fnexttoken
+fnexttoken
+strlen
+fnexttoken
+fnexttoken
+getnexttoken
+plstrcasecmp
+fnexttoken
+xsender
+prfreeif
+fxsenderinfo
+fnexttoken
+getnexttoken
+fnexttoken
+setsyntaxerror
+prtrue
+fxsenderinfo
+createastring
+fnexttoken
+getnexttoken
+plstrcasecmp
+fnexttoken
+body
+skiptocrlf
+plstrcasecmp
+fnexttoken
+bodystructure
+fcurrentresponseuid
+fflagstate
+getuidofmessage
+ffetchresponseindex
+fcurrentresponseuid
+bodystructuredata
+plstrncasecmp
+fnexttoken
+body
+plstrncasecmp
+fnexttoken
+body
+fdownloadingheaders
+prfalse
+mimedata
+plstrcasecmp
+fnexttoken
+envelope
+fdownloadingheaders
+prtrue
+bneedendmessagedownload
+prtrue
+beginmessagedownload
+messagerfc
+envelopedata
+plstrcasecmp
+fnexttoken
+internaldate
+fdownloadingheaders
+prtrue
+bneedendmessagedownload
+beginmessagedownload
+messagerfc
+bneedendmessagedownload
+prtrue
+internaldate
+plstrcasecmp
+fnexttoken
+xaol
+envelope
+fdownloadingheaders
+prtrue
+bneedendmessagedownload
+beginmessagedownload
+messagerfc
+bneedendmessagedownload
+prtrue
+xaolenvelopedata
+nsimapaction
+imapaction
+fserverconnection
+getcurrenturl
+getimapaction
+imapaction
+nsxpidlcstring
+userdefinedfetchattribute
+fserverconnection
+getcurrenturl
+getcustomattributetofetch
+gettercopies
+userdefinedfetchattribute
+imapaction
+nsiimapurl
+nsimapuserdefinedfetchattribute
+strcmp
+userdefinedfetchattribute
+get
+fnexttoken
+fnexttoken
+getnexttoken
+fetchresult
+createparengroup
+fserverconnection
+getcurrenturl
+setcustomattributeresult
+fetchresult
+prfree
+fetchresult
+setsyntaxerror
+prtrue
+continueparse
+currentresponseuid
+currentresponseuid
+nsmsgkeynone
+fcurrentlinecontainedflaginfo
+fflagstate
+fflagstate
+adduidflagpair
+currentresponseuid
+fsavedflaginfo
+print
+fcustomflags
+count
+fflagstate
+adduidcustomflagpair
+currentresponseuid
+fcustomflags
+cstringat
+get
+fcustomflags
+clear
+ffetchingallflags
+fcurrentlinecontainedflaginfo
+prfalse
+fnexttoken
+getnexttoken
+bneedendmessagedownload
+continueparse
+fserverconnection
+normalmessageenddownload
+fserverconnection
+abortmessagedownload
+envelopeitemtype
+envelopestring
+envelopeaddress
+envelopeitemtype
+name
+envelopeitemtype
+type
+envelopeitem
+envelopeitem
+envelopetable
+date
+envelopestring
+subject
+envelopestring
+from
+envelopeaddress
+sender
+envelopeaddress
+reply
+to
+envelopeaddress
+to
+envelopeaddress
+cc
+envelopeaddress
+bcc
+envelopeaddress
+in
+reply
+to
+envelopestring
+message
+id
+envelopestring
+nsimapserverresponseparser
+envelopedata
+fnexttoken
+getnexttoken
+fnexttoken
+tableindex
+tableindex
+envelopetable
+envelopetable
+tableindex
+prbool
+headernonnil
+prtrue
+continueparse
+fnexttoken
+nscautostring
+headerline
+envelopetable
+tableindex
+name
+headerline
+envelopetable
+tableindex
+type
+envelopestring
+nsxpidlcstring
+strvalue
+strvalue
+adopt
+createnilstring
+strvalue
+headerline
+append
+strvalue
+headernonnil
+prfalse
+nscautostring
+address
+parseaddress
+address
+headerline
+address
+address
+isempty
+headernonnil
+prfalse
+headernonnil
+fserverconnection
+handlemessagedownloadline
+headerline
+get
+prfalse
+continueparse
+fnexttoken
+tableindex
+envelopetable
+envelopetable
+fnexttoken
+getnexttoken
+fnexttoken
+getnexttoken
+nsimapserverresponseparser
+xaolenvelopedata
+fnexttoken
+continueparse
+fnexttoken
+fnexttoken
+getnexttoken
+fnexttoken
+nsxpidlcstring
+subject
+subject
+adopt
+createnilstring
+nscautostring
+subjectline
+subject
+subjectline
+subject
+fserverconnection
+handlemessagedownloadline
+subjectline
+get
+prfalse
+fnexttoken
+continueparse
+fnexttoken
+getnexttoken
+continueparse
+nscautostring
+fromline
+strcmp
+getselectedmailboxname
+sent
+items
+fromline
+append
+to
+nscautostring
+fakefromline
+nsliteralcstring
+from
+nsdependentcstring
+fserverconnection
+getimapusername
+nsliteralcstring
+aol
+fserverconnection
+handlemessagedownloadline
+fakefromline
+get
+prfalse
+fromline
+append
+from
+parseaddress
+fromline
+fserverconnection
+handlemessagedownloadline
+fromline
+get
+prfalse
+continueparse
+fnexttoken
+getnexttoken
+print
+attachmentsize
+atoi
+fnexttoken
+attachmentsize
+nscautostring
+attachmentline
+attachment
+size
+attachmentline
+appendint
+attachmentsize
+fserverconnection
+handlemessagedownloadline
+attachmentline
+get
+prfalse
+continueparse
+fnexttoken
+getnexttoken
+print
+imagesize
+atoi
+fnexttoken
+imagesize
+nscautostring
+imageline
+image
+size
+imageline
+appendint
+imagesize
+fserverconnection
+handlemessagedownloadline
+imageline
+get
+prfalse
+continueparse
+fnexttoken
+getnexttoken
+nsimapserverresponseparser
+parseaddress
+nscautostring
+addressline
+nscrt
+strcmp
+fnexttoken
+nil
+prbool
+firstaddress
+prtrue
+nsassertion
+fnexttoken
+address
+should
+start
+with
+fnexttoken
+continueparse
+fnexttoken
+nsassertion
+fnexttoken
+address
+should
+start
+with
+fnexttoken
+firstaddress
+addressline
+firstaddress
+prfalse
+personalname
+createnilstring
+fnexttoken
+getnexttoken
+atdomainlist
+createnilstring
+continueparse
+fnexttoken
+getnexttoken
+mailboxname
+createnilstring
+continueparse
+fnexttoken
+getnexttoken
+hostname
+createnilstring
+hostname
+fnexttoken
+fnexttoken
+getnexttoken
+addressline
+mailboxname
+hostname
+addressline
+addressline
+hostname
+nscrt
+free
+hostname
+personalname
+addressline
+addressline
+personalname
+addressline
+prfree
+personalname
+prfree
+atdomainlist
+fnexttoken
+fnexttoken
+fnexttoken
+fnexttoken
+getnexttoken
+fnexttoken
+fnexttoken
+nsimapserverresponseparser
+internaldate
+fnexttoken
+getnexttoken
+continueparse
+nscautostring
+dateline
+date
+strvalue
+createnilstring
+strvalue
+dateline
+strvalue
+nscrt
+free
+strvalue
+fserverconnection
+handlemessagedownloadline
+dateline
+get
+prfalse
+fnexttoken
+getnexttoken
+nsimapserverresponseparser
+flags
+imapmessageflagstype
+messageflags
+knoimapmsgflag
+fcustomflags
+clear
+fflagstate
+currentresponseuid
+nsmsgkeynone
+fflagstate
+clearcustomflags
+currentresponseuid
+fnexttoken
+continueparse
+fnexttoken
+prbool
+knownflag
+prfalse
+fnexttoken
+toupper
+fnexttoken
+plstrncasecmp
+fnexttoken
+seen
+messageflags
+kimapmsgseenflag
+knownflag
+prtrue
+plstrncasecmp
+fnexttoken
+answered
+messageflags
+kimapmsgansweredflag
+knownflag
+prtrue
+plstrncasecmp
+fnexttoken
+flagged
+messageflags
+kimapmsgflaggedflag
+knownflag
+prtrue
+plstrncasecmp
+fnexttoken
+deleted
+messageflags
+kimapmsgdeletedflag
+knownflag
+prtrue
+plstrncasecmp
+fnexttoken
+draft
+messageflags
+kimapmsgdraftflag
+knownflag
+prtrue
+plstrncasecmp
+fnexttoken
+recent
+messageflags
+kimapmsgrecentflag
+knownflag
+prtrue
+fnexttoken
+toupper
+fnexttoken
+fsupportsuserdefinedflags
+kimapmsgsupportuserflag
+kimapmsgsupportmdnsentflag
+plstrncasecmp
+fnexttoken
+mdnsent
+messageflags
+kimapmsgmdnsentflag
+knownflag
+prtrue
+fsupportsuserdefinedflags
+kimapmsgsupportuserflag
+kimapmsgsupportforwardedflag
+plstrncasecmp
+fnexttoken
+forwarded
+messageflags
+kimapmsgforwardedflag
+knownflag
+prtrue
+fsupportsuserdefinedflags
+kimapmsgsupportuserflag
+plstrncasecmp
+fnexttoken
+label
+print
+labelvalue
+fnexttoken
+labelvalue
+messageflags
+kimapmsglabelflags
+messageflags
+labelvalue
+knownflag
+prtrue
+knownflag
+fflagstate
+nscautostring
+flag
+fnexttoken
+print
+parenindex
+flag
+findchar
+parenindex
+flag
+truncate
+parenindex
+messageflags
+kimapmsgcustomkeywordflag
+currentresponseuid
+nsmsgkeynone
+fflagstate
+adduidcustomflagpair
+currentresponseuid
+flag
+get
+fcustomflags
+appendcstring
+flag
+plstrcasestr
+fnexttoken
+fnexttoken
+fnexttoken
+fnexttoken
+getnexttoken
+continueparse
+fnexttoken
+fnexttoken
+fcurrentlinecontainedflaginfo
+prtrue
+fsavedflaginfo
+messageflags
+nsimapserverresponseparser
+respcondstate
+plstrcasecmp
+fnexttoken
+no
+plstrcasecmp
+fnexttoken
+bad
+fprocessingtaggedresponse
+fcurrentcommandfailed
+prtrue
+fnexttoken
+getnexttoken
+continueparse
+resptext
+nsimapserverresponseparser
+resptext
+continueparse
+fnexttoken
+resptextcode
+continueparse
+plstrcmp
+fnexttoken
+textmime
+text
+nsimapserverresponseparser
+textmime
+skiptocrlf
+nsimapserverresponseparser
+text
+skiptocrlf
+nsimapserverresponseparser
+parsefolderflags
+fnexttoken
+getnexttoken
+fnexttoken
+fnexttoken
+plstrncasecmp
+fnexttoken
+mdnsent
+fsupportsuserdefinedflags
+kimapmsgsupportmdnsentflag
+plstrncasecmp
+fnexttoken
+forwarded
+fsupportsuserdefinedflags
+kimapmsgsupportforwardedflag
+plstrncasecmp
+fnexttoken
+seen
+fsettablepermanentflags
+kimapmsgseenflag
+plstrncasecmp
+fnexttoken
+answered
+fsettablepermanentflags
+kimapmsgansweredflag
+plstrncasecmp
+fnexttoken
+flagged
+fsettablepermanentflags
+kimapmsgflaggedflag
+plstrncasecmp
+fnexttoken
+deleted
+fsettablepermanentflags
+kimapmsgdeletedflag
+plstrncasecmp
+fnexttoken
+draft
+fsettablepermanentflags
+kimapmsgdraftflag
+plstrncasecmp
+fnexttoken
+fsupportsuserdefinedflags
+kimapmsgsupportuserflag
+fsupportsuserdefinedflags
+kimapmsgsupportforwardedflag
+fsupportsuserdefinedflags
+kimapmsgsupportmdnsentflag
+fsupportsuserdefinedflags
+kimapmsglabelflags
+atendofline
+continueparse
+fflagstate
+fflagstate
+setsupporteduserflags
+fsupportsuserdefinedflags
+nsimapserverresponseparser
+resptextcode
+strlen
+fnexttoken
+fnexttoken
+fnexttoken
+getnexttoken
+continueparse
+plstrcasecmp
+fnexttoken
+alert
+alertmsg
+fcurrenttokenplaceholder
+alertmsg
+alertmsg
+flastalert
+plstrcmp
+fnexttoken
+flastalert
+fserverconnection
+alertuserevent
+alertmsg
+prfree
+flastalert
+flastalert
+plstrdup
+alertmsg
+fnexttoken
+getnexttoken
+plstrcasecmp
+fnexttoken
+parse
+fnexttoken
+getnexttoken
+plstrcasecmp
+fnexttoken
+netscape
+skiptocrlf
+plstrcasecmp
+fnexttoken
+permanentflags
+pruint
+savesettableflags
+fsettablepermanentflags
+fsupportsuserdefinedflags
+fsettablepermanentflags
+parsefolderflags
+fsettablepermanentflags
+fsettablepermanentflags
+savesettableflags
+fgotpermanentflags
+prtrue
+plstrcasecmp
+fnexttoken
+read
+only
+fcurrentfolderreadonly
+prtrue
+fnexttoken
+getnexttoken
+plstrcasecmp
+fnexttoken
+read
+write
+fcurrentfolderreadonly
+prfalse
+fnexttoken
+getnexttoken
+plstrcasecmp
+fnexttoken
+trycreate
+fnexttoken
+getnexttoken
+plstrcasecmp
+fnexttoken
+uidvalidity
+fnexttoken
+getnexttoken
+continueparse
+ffolderuidvalidity
+atoi
+fnexttoken
+fhighestrecordeduid
+fnexttoken
+getnexttoken
+plstrcasecmp
+fnexttoken
+unseen
+fnexttoken
+getnexttoken
+continueparse
+fnumberofunseenmessages
+atoi
+fnexttoken
+fnexttoken
+getnexttoken
+plstrcasecmp
+fnexttoken
+appenduid
+fnexttoken
+getnexttoken
+continueparse
+fnexttoken
+getnexttoken
+continueparse
+fcurrentresponseuid
+atoi
+fnexttoken
+fnexttoken
+getnexttoken
+plstrcasecmp
+fnexttoken
+copyuid
+fnexttoken
+getnexttoken
+continueparse
+fnexttoken
+getnexttoken
+continueparse
+fnexttoken
+getnexttoken
+fcopyresponsekeyarray
+removeall
+pruint
+startkey
+atoi
+fnexttoken
+fcopyresponsekeyarray
+add
+startkey
+colon
+plstrchr
+fnexttoken
+colon
+pruint
+endkey
+atoi
+colon
+nsassertion
+endkey
+startkey
+oops
+invalid
+message
+set
+startkey
+startkey
+endkey
+startkey
+fcopyresponsekeyarray
+add
+startkey
+fserverconnection
+setcopyresponseuid
+fcopyresponsekeyarray
+fnexttoken
+continueparse
+fnexttoken
+getnexttoken
+fnexttoken
+getnexttoken
+plstrcasestr
+fnexttoken
+atendofline
+continueparse
+nsimapserverresponseparser
+responsedone
+continueparse
+plstrcmp
+fcurrentcommandtag
+fnexttoken
+responsetagged
+responsefatal
+nsimapserverresponseparser
+responsetagged
+fnexttoken
+getnexttoken
+continueparse
+fprocessingtaggedresponse
+prtrue
+respcondstate
+continueparse
+endofline
+nsimapserverresponseparser
+responsefatal
+fnexttoken
+getnexttoken
+continueparse
+respcondbye
+continueparse
+endofline
+nsimapserverresponseparser
+respcondbye
+setconnected
+prfalse
+fimapstate
+knonauthenticated
+skiptocrlf
+nsimapserverresponseparser
+msgfetchheaders
+partnum
+getfillinginshell
+headerdata
+createastring
+fnexttoken
+getnexttoken
+mshell
+adoptmessageheaders
+headerdata
+partnum
+msgfetchcontent
+prfalse
+messagerfc
+nsimapserverresponseparser
+msgfetchcontent
+prbool
+chunk
+print
+origin
+contenttype
+chunk
+origin
+getdownloadingheaders
+getfillinginshell
+mshell
+getgeneratingwholemessage
+prtrue
+nsfailed
+beginmessagedownload
+contenttype
+plstrcasecmp
+fnexttoken
+nil
+fnexttoken
+flastchunk
+msgfetchquoted
+chunk
+origin
+flastchunk
+msgfetchliteral
+chunk
+origin
+fnexttoken
+getnexttoken
+flastchunk
+getfillinginshell
+mshell
+getgeneratingwholemessage
+prtrue
+continueparse
+fserverconnection
+normalmessageenddownload
+fserverconnection
+abortmessagedownload
+prbool
+nsimapserverresponseparser
+msgfetchquoted
+prbool
+chunk
+print
+origin
+ifdef
+debugchrisf
+prassert
+chunk
+endif
+createquoted
+fserverconnection
+handlemessagedownloadline
+prfalse
+prfree
+fnexttoken
+getnexttoken
+prbool
+lastchunk
+chunk
+origin
+numberofcharsinthischunk
+ftotaldownloadsize
+lastchunk
+nsimapserverresponseparser
+msgobsolete
+plstrcasecmp
+fnexttoken
+copy
+fnexttoken
+getnexttoken
+plstrcasecmp
+fnexttoken
+store
+fnexttoken
+getnexttoken
+continueparse
+msgfetch
+setsyntaxerror
+prtrue
+nsimapserverresponseparser
+capabilitydata
+fcapabilityflag
+fcapabilityflag
+kcapabilitydefined
+fnexttoken
+getnexttoken
+fnexttoken
+plstrcasecmp
+fnexttoken
+auth
+login
+fcapabilityflag
+khasauthlogincapability
+plstrcasecmp
+fnexttoken
+auth
+plain
+fcapabilityflag
+khasauthplaincapability
+plstrcasecmp
+fnexttoken
+auth
+cram
+md
+fcapabilityflag
+khascramcapability
+plstrcasecmp
+fnexttoken
+netscape
+fcapabilityflag
+khasxnetscapecapability
+plstrcasecmp
+fnexttoken
+xsender
+fcapabilityflag
+khasxsendercapability
+plstrcasecmp
+fnexttoken
+imap
+fcapabilityflag
+kimapcapability
+plstrcasecmp
+fnexttoken
+imaprev
+fcapabilityflag
+kimaprevcapability
+plstrncasecmp
+fnexttoken
+imap
+fcapabilityflag
+kimapother
+plstrcasecmp
+fnexttoken
+no
+atomic
+rename
+fcapabilityflag
+knohierarchyrename
+plstrcasecmp
+fnexttoken
+non
+hierarchical
+rename
+fcapabilityflag
+knohierarchyrename
+plstrcasecmp
+fnexttoken
+namespace
+fcapabilityflag
+knamespacecapability
+plstrcasecmp
+fnexttoken
+mailboxdata
+fcapabilityflag
+kmailboxdatacapability
+plstrcasecmp
+fnexttoken
+acl
+fcapabilityflag
+kaclcapability
+plstrcasecmp
+fnexttoken
+xserverinfo
+fcapabilityflag
+kxserverinfocapability
+plstrcasecmp
+fnexttoken
+uidplus
+fcapabilityflag
+kuidpluscapability
+plstrcasecmp
+fnexttoken
+literal
+fcapabilityflag
+kliteralpluscapability
+plstrcasecmp
+fnexttoken
+xaol
+option
+fcapabilityflag
+kaolimapcapability
+plstrcasecmp
+fnexttoken
+quota
+fcapabilityflag
+kquotacapability
+plstrcasecmp
+fnexttoken
+language
+fcapabilityflag
+khaslanguagecapability
+fnexttoken
+atendofline
+continueparse
+fhostsessionlist
+fhostsessionlist
+setcapabilityforhost
+fserverconnection
+getimapserverkey
+fcapabilityflag
+nsimapprotocol
+navcon
+fserverconnection
+nsassertion
+navcon
+imap
+protocol
+connection
+parsing
+capability
+response
+navcon
+navcon
+commitcapability
+skiptocrlf
+nsimapserverresponseparser
+xmailboxinfodata
+fnexttoken
+getnexttoken
+fnexttoken
+mailboxname
+createastring
+mailboxname
+fnexttoken
+getnexttoken
+fnexttoken
+plstrcmp
+manageurl
+fnexttoken
+fnexttoken
+getnexttoken
+ffolderadminurl
+createastring
+plstrcmp
+posturl
+fnexttoken
+fnexttoken
+getnexttoken
+fnexttoken
+atendofline
+continueparse
+nsimapserverresponseparser
+xserverinfodata
+fnexttoken
+getnexttoken
+fnexttoken
+plstrcmp
+manageaccounturl
+fnexttoken
+fnexttoken
+getnexttoken
+fmailaccounturl
+createnilstring
+plstrcmp
+managelistsurl
+fnexttoken
+fnexttoken
+getnexttoken
+fmanagelistsurl
+createnilstring
+plstrcmp
+managefiltersurl
+fnexttoken
+fnexttoken
+getnexttoken
+fmanagefiltersurl
+createnilstring
+fnexttoken
+atendofline
+continueparse
+nsimapserverresponseparser
+languagedata
+fnexttoken
+getnexttoken
+fnexttoken
+atendofline
+continueparse
+nsimapserverresponseparser
+cramresponsedata
+fnexttoken
+getnexttoken
+fcramdigest
+nscrt
+strdup
+fnexttoken
+fwaitingformoreclientinput
+prtrue
+skiptocrlf
+nsimapserverresponseparser
+namespacedata
+eimapnamespacetype
+namespacetype
+kpersonalnamespace
+prbool
+namespacescommitted
+prfalse
+serverkey
+fserverconnection
+getimapserverkey
+namespacetype
+kunknownnamespace
+continueparse
+fnexttoken
+getnexttoken
+atendofline
+continueparse
+fnexttoken
+getnexttoken
+plstrcasecmp
+fnexttoken
+nil
+fnexttoken
+fnexttoken
+fnexttoken
+continueparse
+fnexttoken
+fnexttoken
+setsyntaxerror
+prtrue
+namespaceprefix
+createquoted
+prfalse
+fnexttoken
+getnexttoken
+quoteddelimiter
+fnexttoken
+namespacedelimiter
+quoteddelimiter
+quoteddelimiter
+namespacedelimiter
+quoteddelimiter
+plstrncasecmp
+quoteddelimiter
+nil
+setsyntaxerror
+prtrue
+continueparse
+nsimapnamespace
+newnamespace
+nsimapnamespace
+namespacetype
+namespaceprefix
+namespacedelimiter
+prfalse
+newnamespace
+fhostsessionlist
+fhostsessionlist
+addnewnamespaceforhost
+serverkey
+newnamespace
+skiptocloseparen
+prbool
+endofthisnamespacetype
+fnexttoken
+endofthisnamespacetype
+fnexttoken
+setsyntaxerror
+prtrue
+prfree
+namespaceprefix
+setsyntaxerror
+prtrue
+namespacetype
+kpersonalnamespace
+namespacetype
+kotherusersnamespace
+kotherusersnamespace
+namespacetype
+kpublicnamespace
+namespacetype
+kunknownnamespace
+continueparse
+nsimapprotocol
+navcon
+fserverconnection
+nsassertion
+navcon
+protocol
+connection
+parsing
+navcon
+navcon
+commitnamespacesforhostevent
+namespacescommitted
+prtrue
+skiptocrlf
+namespacescommitted
+fhostsessionlist
+prbool
+success
+fhostsessionlist
+flushuncommittednamespacesforhost
+serverkey
+success
+nsimapserverresponseparser
+myrightsdata
+fnexttoken
+getnexttoken
+continueparse
+atendofline
+mailboxname
+createastring
+mailboxname
+fnexttoken
+getnexttoken
+continueparse
+myrights
+createastring
+myrights
+nsimapprotocol
+navcon
+fserverconnection
+nsassertion
+navcon
+connection
+parsing
+my
+rights
+navcon
+navcon
+addfolderrightsforuser
+mailboxname
+nsnull
+myrights
+prfree
+myrights
+handlememoryfailure
+continueparse
+fnexttoken
+getnexttoken
+prfree
+mailboxname
+handlememoryfailure
+setsyntaxerror
+prtrue
+nsimapserverresponseparser
+acldata
+fnexttoken
+getnexttoken
+continueparse
+atendofline
+mailboxname
+createastring
+mailboxname
+continueparse
+fnexttoken
+getnexttoken
+continueparse
+atendofline
+username
+createastring
+username
+continueparse
+fnexttoken
+getnexttoken
+continueparse
+rights
+createastring
+rights
+fserverconnection
+addfolderrightsforuser
+mailboxname
+username
+rights
+prfree
+rights
+handlememoryfailure
+continueparse
+fnexttoken
+getnexttoken
+prfree
+username
+handlememoryfailure
+prfree
+mailboxname
+handlememoryfailure
+nsimapserverresponseparser
+mimedata
+plstrstr
+fnexttoken
+mime
+mimeheaderdata
+mimepartdata
+nsimapserverresponseparser
+mimeheaderdata
+partnumber
+plstrdup
+fnexttoken
+partnumber
+start
+partnumber
+end
+partnumber
+continueparse
+end
+end
+end
+end
+end
+end
+end
+end
+fnexttoken
+getnexttoken
+mimeheaderdata
+createastring
+fnexttoken
+getnexttoken
+mshell
+mshell
+adoptmimeheader
+start
+mimeheaderdata
+setsyntaxerror
+prtrue
+prfree
+partnumber
+handlememoryfailure
+nsimapserverresponseparser
+mimepartdata
+checkorigintoken
+plstrdup
+fnexttoken
+checkorigintoken
+pruint
+origin
+prbool
+originfound
+prfalse
+wherestart
+plstrchr
+checkorigintoken
+wherestart
+whereend
+plstrchr
+wherestart
+whereend
+whereend
+wherestart
+origin
+atoi
+wherestart
+originfound
+prtrue
+prfree
+checkorigintoken
+fnexttoken
+getnexttoken
+msgfetchcontent
+originfound
+origin
+messagerfc
+handlememoryfailure
+nsimapserverresponseparser
+bodystructuredata
+fnexttoken
+getnexttoken
+fnexttoken
+fnexttoken
+buf
+createparengroup
+continueparse
+buf
+handlememoryfailure
+mshell
+nsimapbodyshell
+fserverconnection
+buf
+currentresponseuid
+getselectedmailboxname
+prfree
+buf
+setsyntaxerror
+prtrue
+nsimapserverresponseparser
+quotadata
+plstrcasecmp
+fnexttoken
+quotaroot
+skiptocrlf
+plstrcasecmp
+fnexttoken
+quota
+pruint
+used
+max
+nscstring
+quotaroot
+parengroup
+fnexttoken
+getnexttoken
+fnexttoken
+setsyntaxerror
+prtrue
+quotaroot
+createastring
+continueparse
+atendofline
+fnexttoken
+getnexttoken
+fnexttoken
+plstrcasecmp
+fnexttoken
+storage
+parengroup
+createparengroup
+parengroup
+prsscanf
+parengroup
+storage
+lu
+lu
+used
+max
+fserverconnection
+updatefolderquotadata
+quotaroot
+used
+max
+skiptocrlf
+setsyntaxerror
+prtrue
+parengroup
+prfree
+parengroup
+skiptocrlf
+setsyntaxerror
+prtrue
+handlememoryfailure
+setsyntaxerror
+prtrue
+prbool
+nsimapserverresponseparser
+getfillinginshell
+mshell
+nsnull
+prbool
+nsimapserverresponseparser
+getdownloadingheaders
+fdownloadingheaders
+nsimapserverresponseparser
+usecachedshell
+nsimapbodyshell
+cachedshell
+mshell
+cachedshell
+prlog
+imap
+prlogalways
+parser
+shell
+collision
+nsassertion
+prfalse
+shell
+collision
+mshell
+cachedshell
+nsimapserverresponseparser
+resetcapabilityflag
+fhostsessionlist
+fhostsessionlist
+setcapabilityforhost
+fserverconnection
+getimapserverkey
+kcapabilityundefined
+prbool
+nsimapserverresponseparser
+msgfetchliteral
+prbool
+chunk
+print
+origin
+numberofcharsinthischunk
+atoi
+fnexttoken
+charsreadsofar
+prbool
+lastcrlfwascrcrlf
+prfalse
+prbool
+lastchunk
+chunk
+origin
+numberofcharsinthischunk
+ftotaldownloadsize
+nsimapaction
+imapaction
+fserverconnection
+getcurrenturl
+getimapaction
+imapaction
+lastcrlfwascrcrlf
+fserverconnection
+getiotunnellingenabled
+numberofcharsinthischunk
+fserverconnection
+gettunnellingthreshold
+imapaction
+nsiimapurl
+nsimaponlinetoofflinecopy
+imapaction
+nsiimapurl
+nsimaponlinetoofflinemove
+charsreadsofar
+fserverconnection
+opentunnel
+numberofcharsinthischunk
+continueparse
+charsreadsofar
+numberofcharsinthischunk
+advancetonextline
+continueparse
+lastcrlfwascrcrlf
+fcurrentline
+nscrt
+cr
+usablecurrentline
+plstrdup
+fcurrentline
+prfree
+fcurrentline
+fcurrentline
+usablecurrentline
+continueparse
+charsreadsofar
+strlen
+fcurrentline
+fdownloadingheaders
+fcurrentcommandissinglemessagefetch
+fserverconnection
+progresseventfunctionusingid
+imapdownloadingmessage
+ftotaldownloadsize
+fserverconnection
+percentprogressupdateevent
+charsreadsofar
+origin
+ftotaldownloadsize
+charsreadsofar
+numberofcharsinthischunk
+displayendofline
+fcurrentline
+strlen
+fcurrentline
+charsreadsofar
+numberofcharsinthischunk
+saveit
+displayendofline
+displayendofline
+fserverconnection
+handlemessagedownloadline
+fcurrentline
+lastchunk
+displayendofline
+saveit
+lastcrlfwascrcrlf
+displayendofline
+nscrt
+cr
+lastcrlfwascrcrlf
+fcurrentline
+strlen
+fcurrentline
+nscrt
+cr
+fserverconnection
+handlemessagedownloadline
+fcurrentline
+lastchunk
+charsreadsofar
+numberofcharsinthischunk
+lastcrlfwascrcrlf
+prlog
+imap
+prlogalways
+parser
+cr
+lf
+fell
+on
+chunk
+boundary
+continueparse
+charsreadsofar
+numberofcharsinthischunk
+advancetokenizerstartingpoint
+strlen
+fcurrentline
+charsreadsofar
+numberofcharsinthischunk
+fnexttoken
+getnexttoken
+skiptocrlf
+fnexttoken
+getnexttoken
+lastcrlfwascrcrlf
+prfalse
+lastchunk
+prbool
+nsimapserverresponseparser
+currentfolderreadonly
+fcurrentfolderreadonly
+print
+nsimapserverresponseparser
+numberofmessages
+fnumberofexistingmessages
+print
+nsimapserverresponseparser
+numberofrecentmessages
+fnumberofrecentmessages
+print
+nsimapserverresponseparser
+numberofunseenmessages
+fnumberofunseenmessages
+print
+nsimapserverresponseparser
+folderuid
+ffolderuidvalidity
+nsimapserverresponseparser
+setcurrentresponseuid
+pruint
+uid
+uid
+fcurrentresponseuid
+uid
+pruint
+nsimapserverresponseparser
+currentresponseuid
+fcurrentresponseuid
+pruint
+nsimapserverresponseparser
+highestrecordeduid
+fhighestrecordeduid
+prbool
+nsimapserverresponseparser
+isnumericstring
+plstrlen
+isdigit
+prfalse
+prtrue
+nsimapmailboxspec
+nsimapserverresponseparser
+createcurrentmailboxspec
+mailboxname
+nsimapmailboxspec
+returnspec
+nsimapmailboxspec
+nsaddref
+returnspec
+returnspec
+mailboxnametoconvert
+mailboxname
+mailboxname
+fselectedmailboxname
+mailboxnametoconvert
+serverkey
+fserverconnection
+getimapserverkey
+nsimapnamespace
+ns
+nsnull
+serverkey
+fhostsessionlist
+fhostsessionlist
+getnamespaceformailboxforhost
+serverkey
+mailboxnametoconvert
+ns
+ns
+returnspec
+hierarchyseparator
+ns
+getdelimiter
+returnspec
+hierarchyseparator
+returnspec
+folderselected
+prtrue
+returnspec
+folderuidvalidity
+ffolderuidvalidity
+returnspec
+numberofmessages
+fnumberofexistingmessages
+returnspec
+numberofunseenmessages
+fnumberofunseenmessages
+returnspec
+numberofrecentmessages
+fnumberofrecentmessages
+returnspec
+boxflags
+knoflags
+returnspec
+onlineverified
+prfalse
+returnspec
+allocatedpathname
+nscrt
+strdup
+mailboxnametoconvert
+returnspec
+connection
+fserverconnection
+returnspec
+connection
+nsiuri
+aurl
+nsnull
+nsresult
+rv
+nsok
+returnspec
+connection
+getcurrenturl
+queryinterface
+nsgetiid
+nsiuri
+aurl
+nssucceeded
+rv
+aurl
+nscautostring
+host
+aurl
+gethost
+host
+returnspec
+hostname
+tonewcstring
+host
+nsifrelease
+aurl
+returnspec
+hostname
+nsnull
+fflagstate
+returnspec
+flagstate
+fflagstate
+returnspec
+flagstate
+nsnull
+handlememoryfailure
+returnspec
+nsimapserverresponseparser
+resetflaginfo
+numberofinterestingmessages
+fflagstate
+fflagstate
+reset
+numberofinterestingmessages
+prbool
+nsimapserverresponseparser
+getlastfetchchunkreceived
+flastchunk
+nsimapserverresponseparser
+clearlastfetchchunkreceived
+flastchunk
+prfalse
+nsimapserverresponseparser
+sethostsessionlist
+nsiimaphostsessionlist
+ahostsessionlist
+nsifrelease
+fhostsessionlist
+fhostsessionlist
+ahostsessionlist
+nsifaddref
+fhostsessionlist
+nsiimaphostsessionlist
+nsimapserverresponseparser
+gethostsessionlist
+nsifaddref
+fhostsessionlist
+fhostsessionlist
+nsimapserverresponseparser
+copyresponseuid
+nsmsgkeyarray
+keyarray
+keyarray
+copyarray
+fcopyresponsekeyarray
+nsimapserverresponseparser
+clearcopyresponseuid
+fcopyresponsekeyarray
+removeall
+nsimapserverresponseparser
+setsyntaxerror
+prbool
+error
+nsimapgenericparser
+setsyntaxerror
+error
+error
+fsyntaxerrorline
+handlememoryfailure
+fserverconnection
+log
+parser
+internal
+syntax
+error
+no
+line
+nsnull
+nscrt
+strcmp
+fsyntaxerrorline
+crlf
+fserverconnection
+log
+parser
+internal
+syntax
+error
+crlf
+nsnull
+fserverconnection
+log
+parser
+internal
+syntax
+error
+fsyntaxerrorline
+nsresult
+nsimapserverresponseparser
+beginmessagedownload
+contenttype
+nsassertion
+fdownloadingheaders
+fsizeofmostrecentmessage
+most
+recent
+message
+has
+negative
+size
+nsresult
+rv
+fserverconnection
+beginmessagedownload
+fsizeofmostrecentmessage
+contenttype
+nsfailed
+rv
+skiptocrlf
+fserverconnection
+pseudointerrupt
+prtrue
+fserverconnection
+abortmessagedownload
+rv
\ No newline at end of file
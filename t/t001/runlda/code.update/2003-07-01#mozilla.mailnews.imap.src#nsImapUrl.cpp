@@ -0,0 +1,2308 @@
+msgcore
+nsmsgimapcid
+nsieventqueueservice
+nsiurl
+nsimapurl
+nsimsgmailsession
+nsiimaphostsessionlist
+nsimapgenericparser
+nsstring
+prmem
+plstr
+prprf
+nscrt
+nscomptr
+nsiimapincomingserver
+nsmsgbasecid
+nsimaputils
+nsxpidlstring
+nsreadableutils
+nsautolock
+nsimapnamespace
+nsicacheentrydescriptor
+nsisupportsobsolete
+nsirdfservice
+rdf
+nsimsgfolder
+nsidocshell
+nsiinterfacerequestor
+nsiinterfacerequestorutils
+nsmsgutils
+nsimsghdr
+nsiprogresseventsink
+nsescape
+nsdefinecid
+kcimapmockchannel
+nsimapmockchannelcid
+nsdefinecid
+kcimaphostsessionlistcid
+nsiimaphostsessionlistcid
+nsimapurl
+nsimapurl
+mlistofmessageids
+nsnull
+msourcecanonicalfolderpathsubstring
+nsnull
+mdestinationcanonicalfolderpathsubstring
+nsnull
+mlistofmessageids
+nsnull
+mtokenplaceholder
+nsnull
+msearchcriteriastring
+nsnull
+midsareuids
+prfalse
+mmimepartselectordetected
+prfalse
+mallowcontentchange
+prtrue
+mfetchpartsondemand
+prfalse
+mmsgloadingfromcache
+prfalse
+mexternallinkurl
+prtrue
+mcontentmodified
+imapcontentnotmodified
+mvalidurl
+prtrue
+mflags
+monlinesubdirseparator
+mcopystate
+nsnull
+mfilespec
+nsnull
+mimapmailfoldersink
+nsnull
+mimapmessagesink
+nsnull
+mimapextensionsink
+nsnull
+mimapmiscellaneoussink
+nsnull
+madddummyenvelope
+prfalse
+mcanonicallineending
+prfalse
+nsresult
+nsimapurl
+initialize
+nsresult
+rv
+nscomponentmanager
+createinstance
+kcimapmockchannel
+nsnull
+nsgetiid
+nsiimapmockchannel
+getteraddrefs
+mmockchannel
+rv
+nsimethodimp
+nsimapurl
+initializeuriformockchannel
+mmockchannel
+mmockchannel
+seturi
+nsok
+nsimethodimp
+nsimapurl
+setmsgwindow
+nsimsgwindow
+amsgwindow
+amsgwindow
+mmsgwindow
+doqueryinterface
+amsgwindow
+mmockchannel
+mmockchannel
+seturi
+nscomptr
+nsidocshell
+msgdocshell
+mmsgwindow
+getrootdocshell
+getteraddrefs
+msgdocshell
+msgdocshell
+nscomptr
+nsiprogresseventsink
+preveventsink
+mmockchannel
+getprogresseventsink
+getteraddrefs
+preveventsink
+nscomptr
+nsiinterfacerequestor
+docir
+doqueryinterface
+msgdocshell
+mmockchannel
+setnotificationcallbacks
+docir
+preveventsink
+mmockchannel
+setprogresseventsink
+preveventsink
+nsok
+nsimapurl
+nsimapurl
+prfreeif
+mlistofmessageids
+prfreeif
+mdestinationcanonicalfolderpathsubstring
+prfreeif
+msourcecanonicalfolderpathsubstring
+prfreeif
+msearchcriteriastring
+nsimpladdrefinherited
+nsimapurl
+nsmsgmailnewsurl
+nsimplreleaseinherited
+nsimapurl
+nsmsgmailnewsurl
+nsinterfacemapbegin
+nsimapurl
+nsinterfacemapentry
+nsiimapurl
+nsinterfacemapentry
+nsimsgmessageurl
+nsinterfacemapentry
+nsimsginurl
+nsinterfacemapendinheriting
+nsmsgmailnewsurl
+nsimethodimp
+nsimapurl
+getrequiredimapstate
+nsimapstate
+aimapurlstate
+aimapurlstate
+mimapaction
+aimapurlstate
+nsimapselectedstate
+aimapurlstate
+nsimapauthenticatedstate
+nsok
+nsimethodimp
+nsimapurl
+getimapaction
+nsimapaction
+aimapaction
+aimapaction
+mimapaction
+nsok
+nsimethodimp
+nsimapurl
+setimapaction
+nsimapaction
+aimapaction
+mimapaction
+aimapaction
+nsok
+nsimethodimp
+nsimapurl
+getfolder
+nsimsgfolder
+amsgfolder
+nsensureargpointer
+amsgfolder
+nsensureargpointer
+mimapfolder
+nscomptr
+nsimsgfolder
+folder
+doqueryreferent
+mimapfolder
+nsifaddref
+amsgfolder
+folder
+nsok
+nsimethodimp
+nsimapurl
+setfolder
+nsimsgfolder
+amsgfolder
+nsresult
+rv
+mimapfolder
+getteraddrefs
+nsgetweakreference
+amsgfolder
+rv
+rv
+nsimethodimp
+nsimapurl
+getimapmailfoldersink
+nsiimapmailfoldersink
+aimapmailfoldersink
+nsensureargpointer
+aimapmailfoldersink
+mimapmailfoldersink
+nserrornullpointer
+nscomptr
+nsiimapmailfoldersink
+foldersink
+doqueryreferent
+mimapmailfoldersink
+aimapmailfoldersink
+foldersink
+nsifaddref
+aimapmailfoldersink
+nsok
+nsimethodimp
+nsimapurl
+setimapmailfoldersink
+nsiimapmailfoldersink
+aimapmailfoldersink
+nsresult
+rv
+mimapmailfoldersink
+getteraddrefs
+nsgetweakreference
+aimapmailfoldersink
+rv
+rv
+nsimethodimp
+nsimapurl
+getimapmessagesink
+nsiimapmessagesink
+aimapmessagesink
+nsensureargpointer
+aimapmessagesink
+nsensureargpointer
+mimapmessagesink
+nscomptr
+nsiimapmessagesink
+messagesink
+doqueryreferent
+mimapmessagesink
+aimapmessagesink
+messagesink
+nsifaddref
+aimapmessagesink
+nsok
+nsimethodimp
+nsimapurl
+setimapmessagesink
+nsiimapmessagesink
+aimapmessagesink
+nsresult
+rv
+mimapmessagesink
+getteraddrefs
+nsgetweakreference
+aimapmessagesink
+rv
+rv
+nsimethodimp
+nsimapurl
+getimapserversink
+nsiimapserversink
+aimapserversink
+nsensureargpointer
+aimapserversink
+nsensureargpointer
+mimapserversink
+nscomptr
+nsiimapserversink
+serversink
+doqueryreferent
+mimapserversink
+aimapserversink
+serversink
+nsifaddref
+aimapserversink
+nsok
+nsimethodimp
+nsimapurl
+setimapserversink
+nsiimapserversink
+aimapserversink
+nsresult
+rv
+mimapserversink
+getteraddrefs
+nsgetweakreference
+aimapserversink
+rv
+rv
+nsimethodimp
+nsimapurl
+getimapextensionsink
+nsiimapextensionsink
+aimapextensionsink
+nsensureargpointer
+aimapextensionsink
+nsensureargpointer
+mimapextensionsink
+nscomptr
+nsiimapextensionsink
+extensionsink
+doqueryreferent
+mimapextensionsink
+aimapextensionsink
+extensionsink
+nsifaddref
+aimapextensionsink
+nsok
+nsimethodimp
+nsimapurl
+setimapextensionsink
+nsiimapextensionsink
+aimapextensionsink
+nsresult
+rv
+mimapextensionsink
+getteraddrefs
+nsgetweakreference
+aimapextensionsink
+rv
+rv
+nsimethodimp
+nsimapurl
+getimapmiscellaneoussink
+nsiimapmiscellaneoussink
+aimapmiscellaneoussink
+nsensureargpointer
+aimapmiscellaneoussink
+nsensureargpointer
+mimapmiscellaneoussink
+nscomptr
+nsiimapmiscellaneoussink
+miscsink
+doqueryreferent
+mimapmiscellaneoussink
+aimapmiscellaneoussink
+miscsink
+nsifaddref
+aimapmiscellaneoussink
+nsok
+nsimethodimp
+nsimapurl
+setimapmiscellaneoussink
+nsiimapmiscellaneoussink
+aimapmiscellaneoussink
+nsresult
+rv
+mimapmiscellaneoussink
+getteraddrefs
+nsgetweakreference
+aimapmiscellaneoussink
+rv
+rv
+nsimethodimp
+nsimapurl
+setspec
+nsacstring
+aspec
+nsresult
+rv
+nsmsgmailnewsurl
+setspec
+aspec
+nssucceeded
+rv
+rv
+parseurl
+rv
+nsimethodimp
+nsimapurl
+setquery
+nsacstring
+aquery
+nsresult
+rv
+nsmsgmailnewsurl
+setquery
+aquery
+nssucceeded
+rv
+rv
+parseurl
+rv
+nsresult
+nsimapurl
+parseurl
+nsresult
+rv
+nsok
+getuserpass
+musername
+nscautostring
+imappartofurl
+rv
+getpath
+imappartofurl
+nsunescapeurl
+imappartofurl
+nssucceeded
+rv
+imappartofurl
+isempty
+parseimappart
+imappartofurl
+get
+nsok
+nsimethodimp
+nsimapurl
+createsearchcriteriastring
+aresult
+nsnull
+aresult
+msearchcriteriastring
+nserrornullpointer
+aresult
+nscrt
+strdup
+msearchcriteriastring
+nsok
+nsimethodimp
+nsimapurl
+createlistofmessageidsstring
+aresult
+nsautocmonitor
+mon
+nscautostring
+newstr
+nsnull
+aresult
+mlistofmessageids
+nserrornullpointer
+print
+bytestocopy
+strlen
+mlistofmessageids
+currentchar
+mlistofmessageids
+currentchar
+currentchar
+currentchar
+currentchar
+bytestocopy
+currentchar
+mlistofmessageids
+wherepart
+plstrstr
+mlistofmessageids
+section
+wherepart
+bytestocopy
+prmin
+bytestocopy
+wherepart
+mlistofmessageids
+newstr
+assign
+mlistofmessageids
+bytestocopy
+aresult
+tonewcstring
+newstr
+nsok
+nsimethodimp
+nsimapurl
+getcommand
+result
+nsensureargpointer
+result
+result
+nscrt
+strdup
+mcommand
+get
+result
+nsok
+nserroroutofmemory
+nsimethodimp
+nsimapurl
+getcustomattributetofetch
+result
+nsensureargpointer
+result
+result
+tonewcstring
+mmsgfetchattribute
+result
+nsok
+nserroroutofmemory
+nsimethodimp
+nsimapurl
+getcustomattributeresult
+result
+nsensureargpointer
+result
+result
+tonewcstring
+mcustomattributeresult
+result
+nsok
+nserroroutofmemory
+nsimethodimp
+nsimapurl
+setcustomattributeresult
+result
+mcustomattributeresult
+result
+nsok
+nsimethodimp
+nsimapurl
+getcustomcommandresult
+result
+nsensureargpointer
+result
+result
+nscrt
+strdup
+mcustomcommandresult
+get
+result
+nsok
+nserroroutofmemory
+nsimethodimp
+nsimapurl
+setcustomcommandresult
+result
+mcustomcommandresult
+result
+nsok
+nsimethodimp
+nsimapurl
+getcustomaddflags
+aresult
+nsensureargpointer
+aresult
+aresult
+tonewcstring
+mcustomaddflags
+aresult
+nsok
+nserroroutofmemory
+nsimethodimp
+nsimapurl
+getcustomsubtractflags
+aresult
+nsensureargpointer
+aresult
+aresult
+tonewcstring
+mcustomsubtractflags
+aresult
+nsok
+nserroroutofmemory
+nsimethodimp
+nsimapurl
+getimapparttofetch
+result
+mlistofmessageids
+wherepart
+plstrstr
+mlistofmessageids
+section
+wherepart
+wherepart
+plstrstr
+mlistofmessageids
+section
+wherepart
+wherepart
+wherelibmimepart
+plstrstr
+wherepart
+part
+wherelibmimepart
+wherelibmimepart
+plstrstr
+wherepart
+part
+numcharstocopy
+wherelibmimepart
+wherelibmimepart
+wherepart
+plstrlen
+mlistofmessageids
+wherepart
+mlistofmessageids
+numcharstocopy
+result
+prmalloc
+numcharstocopy
+result
+plstrncpy
+result
+wherepart
+numcharstocopy
+result
+numcharstocopy
+nsok
+nsimethodimp
+nsimapurl
+getonlinesubdirseparator
+separator
+separator
+separator
+monlinesubdirseparator
+nsok
+nserrornullpointer
+nsimethodimp
+nsimapurl
+setonlinesubdirseparator
+onlinedirseparator
+monlinesubdirseparator
+onlinedirseparator
+nsok
+nsimethodimp
+nsimapurl
+messageidsareuids
+prbool
+result
+result
+midsareuids
+nsok
+nsimethodimp
+nsimapurl
+getchilddiscoverydepth
+print
+result
+result
+mdiscoverydepth
+nsok
+nsimethodimp
+nsimapurl
+getmsgflags
+imapmessageflagstype
+result
+result
+mflags
+nsok
+nsimapurl
+parseimappart
+imappartofurl
+mtokenplaceholder
+imappartofurl
+murlidsubstring
+mtokenplaceholder
+nsimapgenericparser
+imapstrtokr
+nsnull
+imapurltokenseparator
+mtokenplaceholder
+murlidsubstring
+mvalidurl
+prfalse
+nscrt
+strcasecmp
+murlidsubstring
+fetch
+mimapaction
+nsimapmsgfetch
+parseuidchoice
+prfreeif
+msourcecanonicalfolderpathsubstring
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+parselistofmessageids
+nscrt
+strcasecmp
+murlidsubstring
+header
+mimapaction
+nsimapmsgheader
+parseuidchoice
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+parselistofmessageids
+nscrt
+strcasecmp
+murlidsubstring
+customfetch
+parseuidchoice
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+parselistofmessageids
+parsecustommsgfetchattribute
+nscrt
+strcasecmp
+murlidsubstring
+deletemsg
+mimapaction
+nsimapdeletemsg
+parseuidchoice
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+parselistofmessageids
+nscrt
+strcasecmp
+murlidsubstring
+uidexpunge
+mimapaction
+nsimapuidexpunge
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+parselistofmessageids
+nscrt
+strcasecmp
+murlidsubstring
+deleteallmsgs
+mimapaction
+nsimapdeleteallmsgs
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+nscrt
+strcasecmp
+murlidsubstring
+addmsgflags
+mimapaction
+nsimapaddmsgflags
+parseuidchoice
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+parselistofmessageids
+parsemsgflags
+nscrt
+strcasecmp
+murlidsubstring
+subtractmsgflags
+mimapaction
+nsimapsubtractmsgflags
+parseuidchoice
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+parselistofmessageids
+parsemsgflags
+nscrt
+strcasecmp
+murlidsubstring
+setmsgflags
+mimapaction
+nsimapsetmsgflags
+parseuidchoice
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+parselistofmessageids
+parsemsgflags
+nscrt
+strcasecmp
+murlidsubstring
+onlinecopy
+mimapaction
+nsimaponlinecopy
+parseuidchoice
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+parselistofmessageids
+parsefolderpath
+mdestinationcanonicalfolderpathsubstring
+nscrt
+strcasecmp
+murlidsubstring
+onlinemove
+mimapaction
+nsimaponlinemove
+parseuidchoice
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+parselistofmessageids
+parsefolderpath
+mdestinationcanonicalfolderpathsubstring
+nscrt
+strcasecmp
+murlidsubstring
+onlinetoofflinecopy
+mimapaction
+nsimaponlinetoofflinecopy
+parseuidchoice
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+parselistofmessageids
+parsefolderpath
+mdestinationcanonicalfolderpathsubstring
+nscrt
+strcasecmp
+murlidsubstring
+onlinetoofflinemove
+mimapaction
+nsimaponlinetoofflinemove
+parseuidchoice
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+parselistofmessageids
+parsefolderpath
+mdestinationcanonicalfolderpathsubstring
+nscrt
+strcasecmp
+murlidsubstring
+offlinetoonlinecopy
+mimapaction
+nsimapofflinetoonlinemove
+parsefolderpath
+mdestinationcanonicalfolderpathsubstring
+nscrt
+strcasecmp
+murlidsubstring
+search
+mimapaction
+nsimapsearch
+parseuidchoice
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+parsesearchcriteriastring
+nscrt
+strcasecmp
+murlidsubstring
+test
+mimapaction
+nsimaptest
+nscrt
+strcasecmp
+murlidsubstring
+select
+mimapaction
+nsimapselectfolder
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+mtokenplaceholder
+mtokenplaceholder
+parselistofmessageids
+mlistofmessageids
+plstrdup
+nscrt
+strcasecmp
+murlidsubstring
+liteselect
+mimapaction
+nsimapliteselectfolder
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+nscrt
+strcasecmp
+murlidsubstring
+selectnoop
+mimapaction
+nsimapselectnoopfolder
+mlistofmessageids
+plstrdup
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+nscrt
+strcasecmp
+murlidsubstring
+expunge
+mimapaction
+nsimapexpungefolder
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+mlistofmessageids
+plstrdup
+nscrt
+strcasecmp
+murlidsubstring
+create
+mimapaction
+nsimapcreatefolder
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+nscrt
+strcasecmp
+murlidsubstring
+ensureexists
+mimapaction
+nsimapensureexistsfolder
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+nscrt
+strcasecmp
+murlidsubstring
+discoverchildren
+mimapaction
+nsimapdiscoverchildrenurl
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+nscrt
+strcasecmp
+murlidsubstring
+discoverlevelchildren
+mimapaction
+nsimapdiscoverlevelchildrenurl
+parsechilddiscoverydepth
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+nscrt
+strcasecmp
+murlidsubstring
+discoverallboxes
+mimapaction
+nsimapdiscoverallboxesurl
+nscrt
+strcasecmp
+murlidsubstring
+discoverallandsubscribedboxes
+mimapaction
+nsimapdiscoverallandsubscribedboxesurl
+nscrt
+strcasecmp
+murlidsubstring
+mimapaction
+nsimapdeletefolder
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+nscrt
+strcasecmp
+murlidsubstring
+deletefolder
+mimapaction
+nsimapdeletefolderandmsgs
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+nscrt
+strcasecmp
+murlidsubstring
+rename
+mimapaction
+nsimaprenamefolder
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+parsefolderpath
+mdestinationcanonicalfolderpathsubstring
+nscrt
+strcasecmp
+murlidsubstring
+movefolderhierarchy
+mimapaction
+nsimapmovefolderhierarchy
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+mtokenplaceholder
+mtokenplaceholder
+parsefolderpath
+mdestinationcanonicalfolderpathsubstring
+nscrt
+strcasecmp
+murlidsubstring
+list
+mimapaction
+nsimaplsubfolders
+parsefolderpath
+mdestinationcanonicalfolderpathsubstring
+nscrt
+strcasecmp
+murlidsubstring
+biff
+mimapaction
+nsimapbiff
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+parselistofmessageids
+nscrt
+strcasecmp
+murlidsubstring
+netscape
+mimapaction
+nsimapgetmailaccounturl
+nscrt
+strcasecmp
+murlidsubstring
+appendmsgfromfile
+mimapaction
+nsimapappendmsgfromfile
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+nscrt
+strcasecmp
+murlidsubstring
+appenddraftfromfile
+mimapaction
+nsimapappenddraftfromfile
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+parseuidchoice
+mtokenplaceholder
+mtokenplaceholder
+parselistofmessageids
+mlistofmessageids
+nscrt
+strdup
+nscrt
+strcasecmp
+murlidsubstring
+subscribe
+mimapaction
+nsimapsubscribe
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+nscrt
+strcasecmp
+murlidsubstring
+unsubscribe
+mimapaction
+nsimapunsubscribe
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+nscrt
+strcasecmp
+murlidsubstring
+refreshacl
+mimapaction
+nsimaprefreshacl
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+nscrt
+strcasecmp
+murlidsubstring
+refreshfolderurls
+mimapaction
+nsimaprefreshfolderurls
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+nscrt
+strcasecmp
+murlidsubstring
+refreshallacls
+mimapaction
+nsimaprefreshallacls
+nscrt
+strcasecmp
+murlidsubstring
+listfolder
+mimapaction
+nsimaplistfolder
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+nscrt
+strcasecmp
+murlidsubstring
+upgradetosubscription
+mimapaction
+nsimapupgradetosubscription
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+nscrt
+strcasecmp
+murlidsubstring
+folderstatus
+mimapaction
+nsimapfolderstatus
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+mimapaction
+nsiimapurl
+nsimapuserdefinedmsgcommand
+mcommand
+murlidsubstring
+parseuidchoice
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+parselistofmessageids
+mimapaction
+nsiimapurl
+nsimapmsgstorecustomkeywords
+parseuidchoice
+parsefolderpath
+msourcecanonicalfolderpathsubstring
+parselistofmessageids
+flagsptr
+mtokenplaceholder
+nsimapgenericparser
+imapstrtokr
+nsnull
+imapurltokenseparator
+mtokenplaceholder
+nsnull
+mcustomaddflags
+assign
+flagsptr
+flagsptr
+mtokenplaceholder
+nsimapgenericparser
+imapstrtokr
+nsnull
+imapurltokenseparator
+mtokenplaceholder
+nsnull
+mcustomsubtractflags
+assign
+flagsptr
+mvalidurl
+prfalse
+nsimethodimp
+nsimapurl
+addonlinedirectoryifnecessary
+onlinemailboxname
+directory
+nsresult
+rv
+nsxpidlcstring
+serverkey
+nsstring
+astring
+nscomptr
+nsimsgincomingserver
+server
+newonlinename
+nsnull
+nscomptr
+nsiimaphostsessionlist
+hostsessionlist
+dogetservice
+kcimaphostsessionlistcid
+rv
+nsfailed
+rv
+rv
+rv
+getserver
+getteraddrefs
+server
+nsfailed
+rv
+rv
+rv
+server
+getkey
+gettercopies
+serverkey
+nsfailed
+rv
+rv
+rv
+hostsessionlist
+getonlinedirforhost
+serverkey
+astring
+onlinedir
+astring
+isempty
+tonewcstring
+astring
+nsnull
+onlinemailboxname
+onlinedir
+nsimapnamespace
+ns
+nsnull
+rv
+hostsessionlist
+getnamespaceformailboxforhost
+serverkey
+onlinemailboxname
+ns
+nsassertion
+ns
+couldn
+find
+host
+ns
+plstrlen
+ns
+getprefix
+plstrcasecmp
+onlinemailboxname
+inbox
+delimiter
+ns
+getdelimiter
+nscautostring
+onlinedirwithdelimiter
+onlinedir
+delimiter
+delimiter
+konlinehierarchyseparatorunknown
+onlinedirwithdelimiter
+replacechar
+delimiter
+onlinedirwithdelimiter
+last
+delimiter
+onlinedirwithdelimiter
+delimiter
+onlinemailboxname
+onlinedirwithdelimiter
+setlength
+onlinedirwithdelimiter
+length
+finallen
+onlinedirwithdelimiter
+length
+strlen
+onlinemailboxname
+newonlinename
+prmalloc
+finallen
+newonlinename
+plstrcpy
+newonlinename
+onlinedirwithdelimiter
+get
+plstrcat
+newonlinename
+onlinemailboxname
+directory
+directory
+newonlinename
+newonlinename
+nscrt
+free
+newonlinename
+rv
+nsimethodimp
+nsimapurl
+allocateserverpath
+canonicalpath
+onlinedelimiter
+aallocatedpath
+nsresult
+retval
+nsok
+rv
+delimitertouse
+onlinedelimiter
+onlinedelimiter
+konlinehierarchyseparatorunknown
+getonlinesubdirseparator
+delimitertouse
+nsassertion
+delimitertouse
+konlinehierarchyseparatorunknown
+hierarchy
+separator
+unknown
+canonicalpath
+rv
+replacecharsincopiedstring
+canonicalpath
+delimitertouse
+rv
+nscrt
+strdup
+delimitertouse
+unescapeslashes
+rv
+onlinenameadded
+nsnull
+addonlinedirectoryifnecessary
+rv
+onlinenameadded
+onlinenameadded
+nscrt
+free
+rv
+rv
+onlinenameadded
+aallocatedpath
+aallocatedpath
+rv
+nscrt
+free
+rv
+retval
+nsresult
+nsimapurl
+escapeslashes
+sourcepath
+resultpath
+nsensurearg
+sourcepath
+nsensurearg
+resultpath
+print
+extra
+print
+len
+strlen
+sourcepath
+src
+sourcepath
+print
+len
+src
+extra
+src
+result
+nsmemory
+alloc
+len
+extra
+result
+nserroroutofmemory
+dst
+result
+src
+sourcepath
+len
+src
+dst
+dst
+dst
+dst
+dst
+resultpath
+result
+nsok
+nsresult
+nsimapurl
+unescapeslashes
+sourcepath
+src
+sourcepath
+dst
+sourcepath
+src
+src
+src
+dst
+src
+dst
+src
+dst
+src
+dst
+nsok
+nsresult
+nsimapurl
+converttocanonicalformat
+foldername
+onlinedelimiter
+resultingcanonicalpath
+canonicalpath
+onlinedelimiter
+nsxpidlcstring
+escapedpath
+escapeslashes
+foldername
+gettercopies
+escapedpath
+canonicalpath
+replacecharsincopiedstring
+escapedpath
+onlinedelimiter
+canonicalpath
+nscrt
+strdup
+foldername
+canonicalpath
+resultingcanonicalpath
+canonicalpath
+canonicalpath
+nsok
+nserroroutofmemory
+nsimethodimp
+nsimapurl
+allocatecanonicalpath
+serverpath
+onlinedelimiter
+allocatedpath
+nsresult
+rv
+nserrornullpointer
+delimitertouse
+onlinedelimiter
+serverkey
+nsnull
+nsstring
+astring
+currentpath
+serverpath
+nscautostring
+onlinedir
+nscomptr
+nsimsgincomingserver
+server
+nscomptr
+nsiimaphostsessionlist
+hostsessionlist
+dogetservice
+kcimaphostsessionlistcid
+rv
+allocatedpath
+nsnull
+onlinedelimiter
+konlinehierarchyseparatorunknown
+onlinedelimiter
+getonlinesubdirseparator
+delimitertouse
+nsassertion
+serverpath
+oops
+serverpath
+serverpath
+nsfailed
+rv
+done
+rv
+getserver
+getteraddrefs
+server
+nsfailed
+rv
+done
+server
+getkey
+serverkey
+hostsessionlist
+getonlinedirforhost
+serverkey
+astring
+onlinedir
+astring
+isempty
+tonewcstring
+astring
+nsnull
+currentpath
+onlinedir
+isempty
+delimitertouse
+delimitertouse
+konlinehierarchyseparatorunknown
+onlinedir
+replacechar
+delimitertouse
+onlinedir
+last
+delimitertouse
+onlinedir
+delimitertouse
+len
+onlinedir
+length
+plstrncmp
+onlinedir
+get
+currentpath
+len
+currentpath
+len
+nsassertion
+currentpath
+oops
+currentpath
+nsassertion
+currentpath
+oops
+currentpath
+starts
+with
+slash
+currentpath
+done
+rv
+converttocanonicalformat
+currentpath
+delimitertouse
+allocatedpath
+done
+prfreeif
+serverkey
+rv
+nsimethodimp
+nsimapurl
+createserversourcefolderpathstring
+result
+nsensureargpointer
+result
+allocateserverpath
+msourcecanonicalfolderpathsubstring
+konlinehierarchyseparatorunknown
+result
+nsok
+nsimethodimp
+nsimapurl
+createcanonicalsourcefolderpathstring
+result
+nsensureargpointer
+result
+nsautocmonitor
+mon
+result
+nscrt
+strdup
+msourcecanonicalfolderpathsubstring
+msourcecanonicalfolderpathsubstring
+result
+nsok
+nserroroutofmemory
+nsimethodimp
+nsimapurl
+createserverdestinationfolderpathstring
+result
+nsensureargpointer
+result
+nsautocmonitor
+mon
+nsresult
+rv
+allocateserverpath
+mdestinationcanonicalfolderpathsubstring
+konlinehierarchyseparatorunknown
+result
+result
+rv
+nserroroutofmemory
+nsimethodimp
+nsimapurl
+setallowcontentchange
+prbool
+allowcontentchange
+mallowcontentchange
+allowcontentchange
+nsok
+nsimethodimp
+nsimapurl
+setcontentmodified
+nsimapcontentmodifiedtype
+contentmodified
+mcontentmodified
+contentmodified
+nscomptr
+nsicacheentrydescriptor
+cacheentry
+nsresult
+res
+getmemcacheentry
+getteraddrefs
+cacheentry
+nssucceeded
+res
+cacheentry
+contentmodifiedannotation
+mcontentmodified
+imapcontentnotmodified
+contentmodifiedannotation
+not
+modified
+imapcontentmodifiedviewinline
+contentmodifiedannotation
+modified
+view
+inline
+imapcontentmodifiedviewaslinks
+contentmodifiedannotation
+modified
+view
+as
+link
+imapcontentforcecontentnotmodified
+contentmodifiedannotation
+force
+content
+not
+modified
+cacheentry
+setmetadataelement
+contentmodified
+contentmodifiedannotation
+nsok
+nsimethodimp
+nsimapurl
+getcontentmodified
+nsimapcontentmodifiedtype
+contentmodified
+contentmodified
+nserrornullpointer
+contentmodified
+mcontentmodified
+nsok
+nsimethodimp
+nsimapurl
+setfetchpartsondemand
+prbool
+fetchpartsondemand
+mfetchpartsondemand
+fetchpartsondemand
+nsok
+nsimethodimp
+nsimapurl
+getfetchpartsondemand
+prbool
+fetchpartsondemand
+fetchpartsondemand
+nserrornullpointer
+fetchpartsondemand
+mfetchpartsondemand
+nsok
+nsimethodimp
+nsimapurl
+setmimepartselectordetected
+prbool
+mimepartselectordetected
+mmimepartselectordetected
+mimepartselectordetected
+nsok
+nsimethodimp
+nsimapurl
+getmimepartselectordetected
+prbool
+mimepartselectordetected
+mimepartselectordetected
+nserrornullpointer
+mimepartselectordetected
+mmimepartselectordetected
+nsok
+nsimethodimp
+nsimapurl
+setcopystate
+nsisupports
+copystate
+nsautocmonitor
+mon
+mcopystate
+copystate
+nsok
+nsimethodimp
+nsimapurl
+getcopystate
+nsisupports
+copystate
+nsensureargpointer
+copystate
+nsautocmonitor
+mon
+copystate
+mcopystate
+nsifaddref
+copystate
+nsok
+nsimethodimp
+nsimapurl
+setmsgfilespec
+nsifilespec
+filespec
+nsresult
+rv
+nsok
+nsautocmonitor
+mon
+mfilespec
+filespec
+rv
+nsimethodimp
+nsimapurl
+getmsgfilespec
+nsifilespec
+filespec
+nsensureargpointer
+filespec
+nsautocmonitor
+mon
+filespec
+mfilespec
+nsifaddref
+filespec
+nsok
+nsimethodimp
+nsimapurl
+getmockchannel
+nsiimapmockchannel
+achannel
+nsensureargpointer
+achannel
+achannel
+mmockchannel
+nsifaddref
+achannel
+nsok
+nsimethodimp
+nsimapurl
+setmockchannel
+nsiimapmockchannel
+achannel
+nsresult
+rv
+nsok
+mmockchannel
+achannel
+rv
+nsimethodimp
+nsimapurl
+addchanneltoloadgroup
+nscomptr
+nsiloadgroup
+loadgroup
+mmockchannel
+mmockchannel
+getloadgroup
+getteraddrefs
+loadgroup
+loadgroup
+getloadgroup
+getteraddrefs
+loadgroup
+loadgroup
+nscomptr
+nsirequest
+request
+doqueryinterface
+mmockchannel
+loadgroup
+addrequest
+request
+nsnull
+nsok
+nsimethodimp
+nsimapurl
+removechannel
+nsresult
+status
+nscomptr
+nsiloadgroup
+loadgroup
+mmockchannel
+mmockchannel
+getloadgroup
+getteraddrefs
+loadgroup
+loadgroup
+getloadgroup
+getteraddrefs
+loadgroup
+loadgroup
+nscomptr
+nsirequest
+request
+doqueryinterface
+mmockchannel
+loadgroup
+removerequest
+request
+nsnull
+status
+setmockchannel
+nsnull
+nsok
+nsimethodimp
+nsimapurl
+getallowcontentchange
+prbool
+result
+nsensureargpointer
+result
+result
+mallowcontentchange
+nsok
+nsimethodimp
+nsimapurl
+seturi
+auri
+muri
+auri
+nsok
+nsimethodimp
+nsimapurl
+geturi
+auri
+nsresult
+rv
+nsok
+muri
+isempty
+auri
+tonewcstring
+muri
+auri
+nsnull
+pruint
+key
+mlistofmessageids
+atoi
+mlistofmessageids
+nsxpidlcstring
+canonicalpath
+allocatecanonicalpath
+msourcecanonicalfolderpathsubstring
+monlinesubdirseparator
+gettercopies
+canonicalpath
+nscstring
+fullfolderpath
+fullfolderpath
+musername
+nscautostring
+hostname
+rv
+gethost
+hostname
+fullfolderpath
+fullfolderpath
+hostname
+fullfolderpath
+fullfolderpath
+append
+canonicalpath
+basemessageuri
+nscreateimapbasemessageuri
+fullfolderpath
+get
+basemessageuri
+nscautostring
+uristr
+rv
+nsbuildimapmessageuri
+basemessageuri
+key
+uristr
+nscrt
+free
+basemessageuri
+auri
+tonewcstring
+uristr
+rv
+nsimplgetset
+nsimapurl
+adddummyenvelope
+prbool
+madddummyenvelope
+nsimplgetset
+nsimapurl
+canonicallineending
+prbool
+mcanonicallineending
+nsimplgetter
+nsimapurl
+getmsgloadingfromcache
+prbool
+mmsgloadingfromcache
+nsimplgetset
+nsimapurl
+externallinkurl
+prbool
+mexternallinkurl
+nsimethodimp
+nsimapurl
+setmsgloadingfromcache
+prbool
+loadingfromcache
+nsresult
+rv
+nsok
+mmsgloadingfromcache
+loadingfromcache
+loadingfromcache
+nscomptr
+nsimsgfolder
+folder
+nsmsgkey
+key
+nscautostring
+folderuri
+rv
+nsparseimapmessageuri
+muri
+get
+folderuri
+key
+nsnull
+nsensuresuccess
+rv
+rv
+mimapaction
+nsimapmsgfetch
+rv
+rv
+getmsgfolder
+getteraddrefs
+folder
+nscomptr
+nsimsgdatabase
+database
+folder
+nssucceeded
+folder
+getmsgdatabase
+nsnull
+getteraddrefs
+database
+database
+prbool
+msgread
+prtrue
+database
+isread
+key
+msgread
+msgread
+nscomptr
+nsisupportsarray
+messages
+rv
+nsnewisupportsarray
+getteraddrefs
+messages
+nsfailed
+rv
+rv
+nscomptr
+nsimsgdbhdr
+message
+getmsgdbhdrfromuri
+muri
+get
+getteraddrefs
+message
+nscomptr
+nsisupports
+msgsupport
+doqueryinterface
+message
+rv
+msgsupport
+messages
+appendelement
+msgsupport
+folder
+markmessagesread
+messages
+prtrue
+rv
+nsimethodimp
+nsimapurl
+setmessagefile
+nsifilespec
+afilespec
+mmessagefilespec
+afilespec
+nsok
+nsimethodimp
+nsimapurl
+getmessagefile
+nsifilespec
+afilespec
+afilespec
+afilespec
+mmessagefilespec
+nsifaddref
+afilespec
+nsok
+nsimethodimp
+nsimapurl
+isurltype
+pruint
+type
+prbool
+istype
+nsensurearg
+istype
+type
+nsimsgmailnewsurl
+ecopy
+istype
+mimapaction
+nsiimapurl
+nsimaponlinecopy
+mimapaction
+nsiimapurl
+nsimaponlinetoofflinecopy
+mimapaction
+nsiimapurl
+nsimapofflinetoonlinecopy
+nsimsgmailnewsurl
+emove
+istype
+mimapaction
+nsiimapurl
+nsimaponlinemove
+mimapaction
+nsiimapurl
+nsimaponlinetoofflinemove
+mimapaction
+nsiimapurl
+nsimapofflinetoonlinemove
+istype
+prfalse
+nsok
+nsimethodimp
+nsimapurl
+getoriginalspec
+aspec
+nserrornotimplemented
+nsimethodimp
+nsimapurl
+setoriginalspec
+aspec
+nserrornotimplemented
+nsimapurl
+replacecharsincopiedstring
+stringtocopy
+oldchar
+newchar
+oldcharstring
+oldcharstring
+oldchar
+oldcharstring
+translatedstring
+plstrdup
+stringtocopy
+currentseparator
+plstrstr
+translatedstring
+oldcharstring
+currentseparator
+currentseparator
+newchar
+currentseparator
+plstrstr
+currentseparator
+oldcharstring
+translatedstring
+nsimapurl
+parsefolderpath
+resultingcanonicalpath
+resultpath
+mtokenplaceholder
+nsimapgenericparser
+imapstrtokr
+nsnull
+imapurltokenseparator
+mtokenplaceholder
+resultpath
+mvalidurl
+prfalse
+nsassertion
+resultingcanonicalpath
+nsnull
+whoops
+mem
+leak
+dirseparator
+resultpath
+resultingcanonicalpath
+plstrdup
+resultpath
+nsunescape
+resultingcanonicalpath
+dirseparator
+konlinehierarchyseparatorunknown
+setonlinesubdirseparator
+dirseparator
+nsimapurl
+parsesearchcriteriastring
+mtokenplaceholder
+quotedflag
+prfalse
+mtokenplaceholder
+imapurltokenseparator
+mtokenplaceholder
+savetokenplaceholder
+mtokenplaceholder
+mtokenplaceholder
+mtokenplaceholder
+mtokenplaceholder
+mtokenplaceholder
+mtokenplaceholder
+quotedflag
+quotedflag
+quotedflag
+mtokenplaceholder
+imapurltokenseparator
+mtokenplaceholder
+mtokenplaceholder
+mtokenplaceholder
+msearchcriteriastring
+plstrdup
+savetokenplaceholder
+mtokenplaceholder
+mtokenplaceholder
+msearchcriteriastring
+msearchcriteriastring
+msearchcriteriastring
+msearchcriteriastring
+mvalidurl
+prfalse
+nsimapurl
+parsechilddiscoverydepth
+discoverydepth
+mtokenplaceholder
+nsimapgenericparser
+imapstrtokr
+nsnull
+imapurltokenseparator
+mtokenplaceholder
+discoverydepth
+mvalidurl
+prfalse
+mdiscoverydepth
+mdiscoverydepth
+atoi
+discoverydepth
+nsimapurl
+parseuidchoice
+uidchoicestring
+mtokenplaceholder
+nsimapgenericparser
+imapstrtokr
+nsnull
+imapurltokenseparator
+mtokenplaceholder
+uidchoicestring
+mvalidurl
+prfalse
+midsareuids
+nscrt
+strcmp
+uidchoicestring
+uid
+nsimapurl
+parsemsgflags
+flagsptr
+mtokenplaceholder
+nsimapgenericparser
+imapstrtokr
+nsnull
+imapurltokenseparator
+mtokenplaceholder
+flagsptr
+intflags
+atoi
+flagsptr
+mflags
+imapmessageflagstype
+intflags
+mflags
+nsimapurl
+parselistofmessageids
+mlistofmessageids
+mtokenplaceholder
+nsimapgenericparser
+imapstrtokr
+nsnull
+imapurltokenseparator
+mtokenplaceholder
+mlistofmessageids
+mvalidurl
+prfalse
+mlistofmessageids
+nscrt
+strdup
+mlistofmessageids
+mmimepartselectordetected
+plstrstr
+mlistofmessageids
+part
+plstrstr
+mlistofmessageids
+part
+mfetchpartsondemand
+mfetchpartsondemand
+plstrstr
+mlistofmessageids
+header
+quotebody
+plstrstr
+mlistofmessageids
+header
+only
+plstrstr
+mlistofmessageids
+header
+filter
+mimapaction
+nsimapmsgfetchpeek
+nsimapurl
+parsecustommsgfetchattribute
+mmsgfetchattribute
+mtokenplaceholder
+nsimapgenericparser
+imapstrtokr
+nsnull
+imapurltokenseparator
+mtokenplaceholder
+nsnull
+nsresult
+nsimapurl
+getmsgfolder
+nsimsgfolder
+msgfolder
+nsxpidlcstring
+uri
+geturi
+gettercopies
+uri
+nsensuretrue
+uri
+nserrorfailure
+nscomptr
+nsimsgdbhdr
+msg
+getmsgdbhdrfromuri
+uri
+getteraddrefs
+msg
+nsensuretrue
+msg
+nserrorfailure
+nsresult
+rv
+msg
+getfolder
+msgfolder
+nsensuresuccess
+rv
+rv
+nsensuretrue
+msgfolder
+nserrorfailure
+nsok
+nsimethodimp
+nsimapurl
+getfoldercharset
+acharacterset
+nscomptr
+nsimsgfolder
+folder
+nsresult
+rv
+getmsgfolder
+getteraddrefs
+folder
+nsensuresuccess
+rv
+rv
+nsensuretrue
+folder
+nserrorfailure
+folder
+getcharset
+acharacterset
+nsok
+nsimethodimp
+nsimapurl
+getfoldercharsetoverride
+prbool
+acharactersetoverride
+nscomptr
+nsimsgfolder
+folder
+nsresult
+rv
+getmsgfolder
+getteraddrefs
+folder
+nsensuresuccess
+rv
+rv
+nsensuretrue
+folder
+nserrorfailure
+folder
+getcharsetoverride
+acharactersetoverride
+nsok
+nsimethodimp
+nsimapurl
+getcharsetoverride
+acharacterset
+mcharsetoverride
+isempty
+acharacterset
+tonewcstring
+mcharsetoverride
+acharacterset
+nsnull
+nsok
+nsimethodimp
+nsimapurl
+setcharsetoverride
+acharacterset
+mcharsetoverride
+acharacterset
+nsok
\ No newline at end of file
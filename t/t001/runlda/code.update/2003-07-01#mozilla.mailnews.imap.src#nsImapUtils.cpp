@@ -0,0 +1,651 @@
+msgcore
+nsimaputils
+nscomptr
+nsreadableutils
+nsiservicemanager
+prsystem
+nsescape
+nsifilespec
+nsimsgaccountmanager
+nsimsgincomingserver
+nsiimapincomingserver
+nsmsgbasecid
+nsimapcore
+nsmsgutils
+nsiimapflaganduidstate
+nsisupportsobsolete
+nsresult
+nsimapuripath
+rooturi
+uristr
+nsfilespec
+pathresult
+nsresult
+rv
+nsautostring
+sbdsep
+rv
+nsgetmailfolderseparator
+sbdsep
+nsfailed
+rv
+rv
+nscautostring
+uri
+uristr
+uri
+find
+rooturi
+nserrorfailure
+plstrcmp
+rooturi
+kimaprooturi
+plstrcmp
+rooturi
+kimapmessagerooturi
+pathresult
+nsnull
+rv
+nserrorfailure
+print
+hoststart
+hoststart
+uri
+findchar
+hoststart
+nserrorfailure
+uri
+charat
+hoststart
+hoststart
+nscautostring
+hostname
+uri
+right
+hostname
+uri
+length
+hoststart
+nscautostring
+username
+print
+atpos
+hostname
+findchar
+atpos
+hostname
+left
+username
+atpos
+hostname
+cut
+atpos
+nscautostring
+folder
+print
+hostend
+hostname
+findchar
+hostend
+hostname
+right
+folder
+hostname
+length
+hostend
+hostname
+truncate
+hostend
+nscomptr
+nsimsgincomingserver
+server
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsfailed
+rv
+rv
+unescapedusername
+tonewcstring
+username
+unescapedusername
+nsunescape
+unescapedusername
+rv
+accountmanager
+findserver
+unescapedusername
+hostname
+get
+imap
+getteraddrefs
+server
+prfreeif
+unescapedusername
+rv
+nserroroutofmemory
+nsfailed
+rv
+rv
+server
+nscomptr
+nsifilespec
+localpath
+rv
+server
+getlocalpath
+getteraddrefs
+localpath
+nsfailed
+rv
+rv
+rv
+localpath
+getfilespec
+pathresult
+nsfailed
+rv
+rv
+pathresult
+createdirectory
+nsfailed
+rv
+pathresult
+nsnull
+rv
+folder
+isempty
+nscautostring
+parentname
+folder
+nscautostring
+leafname
+folder
+print
+dirend
+parentname
+findchar
+dirend
+parentname
+right
+leafname
+parentname
+length
+dirend
+parentname
+truncate
+dirend
+nsmsghashifnecessary
+parentname
+parentname
+appendwithconversion
+sbdsep
+pathresult
+parentname
+get
+parentname
+leafname
+get
+dirend
+parentname
+findchar
+leafname
+isempty
+nsmsghashifnecessary
+leafname
+pathresult
+leafname
+get
+nsok
+nsresult
+nsimapurifullname
+rooturi
+hostname
+uristr
+name
+nsautostring
+uri
+uri
+assignwithconversion
+uristr
+nsautostring
+fullname
+uri
+find
+rooturi
+nserrorfailure
+uri
+right
+fullname
+uri
+length
+strlen
+rooturi
+uri
+fullname
+print
+hoststart
+uri
+find
+hostname
+hoststart
+nserrorfailure
+uri
+right
+fullname
+uri
+length
+hoststart
+uri
+fullname
+print
+hostend
+uri
+findchar
+hostend
+nserrorfailure
+uri
+right
+fullname
+uri
+length
+hostend
+fullname
+isempty
+nserrorfailure
+name
+tonewcstring
+fullname
+nsok
+nsresult
+nsparseimapmessageuri
+uri
+nscstring
+folderuri
+pruint
+key
+part
+key
+nserrornullpointer
+nscautostring
+uristr
+uri
+print
+keyseparator
+uristr
+rfindchar
+keyseparator
+print
+keyendseparator
+uristr
+findcharinset
+keyseparator
+nsautostring
+folderpath
+uristr
+left
+folderuri
+keyseparator
+folderuri
+cut
+nscautostring
+keystr
+keyendseparator
+uristr
+mid
+keystr
+keyseparator
+keyendseparator
+keyseparator
+uristr
+right
+keystr
+uristr
+length
+keyseparator
+print
+errorcode
+key
+keystr
+tointeger
+errorcode
+part
+keyendseparator
+print
+partpos
+uristr
+find
+part
+prfalse
+keyendseparator
+partpos
+nscstring
+partsubstr
+uristr
+right
+partsubstr
+uristr
+length
+keyendseparator
+part
+tonewcstring
+partsubstr
+nsok
+nsresult
+nsbuildimapmessageuri
+baseuri
+pruint
+key
+nscstring
+uri
+uri
+append
+baseuri
+uri
+append
+uri
+appendint
+key
+nsok
+nsresult
+nscreateimapbasemessageuri
+baseuri
+basemessageuri
+basemessageuri
+nserrornullpointer
+nscautostring
+tailuri
+baseuri
+tailuri
+find
+kimaprooturi
+tailuri
+cut
+plstrlen
+kimaprooturi
+nscautostring
+baseuristr
+kimapmessagerooturi
+baseuristr
+tailuri
+basemessageuri
+tonewcstring
+baseuristr
+basemessageuri
+nserroroutofmemory
+nsok
+nsimplisupports
+nsimapmailboxspec
+nsimailboxspec
+nsimapmailboxspec
+nsimapmailboxspec
+folderuidvalidity
+numberofmessages
+numberofunseenmessages
+numberofrecentmessages
+boxflags
+allocatedpathname
+nsnull
+unicharpathname
+nsnull
+hierarchyseparator
+hostname
+nsnull
+folderselected
+prfalse
+discoveredfromlsub
+prfalse
+onlineverified
+prfalse
+namespaceforfolder
+nsnull
+nsimapmailboxspec
+nsimapmailboxspec
+nscrt
+free
+allocatedpathname
+nscrt
+free
+unicharpathname
+nscrt
+free
+hostname
+nsimplgetset
+nsimapmailboxspec
+folderuidvalidity
+print
+folderuidvalidity
+nsimplgetset
+nsimapmailboxspec
+numberofmessages
+print
+numberofmessages
+nsimplgetset
+nsimapmailboxspec
+numberofunseenmessages
+print
+numberofunseenmessages
+nsimplgetset
+nsimapmailboxspec
+numberofrecentmessages
+print
+numberofrecentmessages
+nsimplgetset
+nsimapmailboxspec
+hierarchyseparator
+hierarchyseparator
+nsimplgetset
+nsimapmailboxspec
+folderselected
+prbool
+folderselected
+nsimplgetset
+nsimapmailboxspec
+discoveredfromlsub
+prbool
+discoveredfromlsub
+nsimplgetset
+nsimapmailboxspec
+onlineverified
+prbool
+onlineverified
+nsimplgetsetstr
+nsimapmailboxspec
+hostname
+hostname
+nsimplgetsetstr
+nsimapmailboxspec
+allocatedpathname
+allocatedpathname
+nsimplgetset
+nsimapmailboxspec
+boxflags
+pruint
+boxflags
+nsimplgetset
+nsimapmailboxspec
+namespaceforfolder
+nsimapnamespace
+namespaceforfolder
+nsimethodimp
+nsimapmailboxspec
+getunicharpathname
+prunichar
+aunicharpathname
+aunicharpathname
+nserrornullpointer
+aunicharpathname
+unicharpathname
+nscrt
+strdup
+unicharpathname
+nsnull
+nsok
+nsimethodimp
+nsimapmailboxspec
+getflagstate
+nsiimapflaganduidstate
+aflagstate
+aflagstate
+nserrornullpointer
+aflagstate
+flagstate
+nsifaddref
+aflagstate
+nsok
+nsimethodimp
+nsimapmailboxspec
+setflagstate
+nsiimapflaganduidstate
+aflagstate
+flagstate
+aflagstate
+nsok
+nsimethodimp
+nsimapmailboxspec
+setunicharpathname
+prunichar
+aunicharpathname
+prfreeif
+unicharpathname
+unicharpathname
+aunicharpathname
+nscrt
+strdup
+aunicharpathname
+nsnull
+unicharpathname
+nsok
+nserroroutofmemory
+nsimapmailboxspec
+nsimapmailboxspec
+nsimapmailboxspec
+acopy
+folderuidvalidity
+acopy
+folderuidvalidity
+numberofmessages
+acopy
+numberofmessages
+numberofunseenmessages
+acopy
+numberofunseenmessages
+numberofrecentmessages
+acopy
+numberofrecentmessages
+boxflags
+acopy
+boxflags
+allocatedpathname
+acopy
+allocatedpathname
+nscrt
+strdup
+acopy
+allocatedpathname
+nsnull
+unicharpathname
+acopy
+unicharpathname
+nscrt
+strdup
+acopy
+unicharpathname
+nsnull
+hierarchyseparator
+acopy
+hierarchyseparator
+hostname
+nscrt
+strdup
+acopy
+hostname
+flagstate
+acopy
+flagstate
+folderselected
+acopy
+folderselected
+discoveredfromlsub
+acopy
+discoveredfromlsub
+onlineverified
+acopy
+onlineverified
+namespaceforfolder
+acopy
+namespaceforfolder
+allocateimapuidstring
+pruint
+msguids
+pruint
+msgcount
+nscstring
+returnstring
+pruint
+startsequence
+msgcount
+msguids
+xffffffff
+pruint
+cursequenceend
+startsequence
+pruint
+total
+msgcount
+pruint
+keyindex
+keyindex
+total
+keyindex
+pruint
+curkey
+msguids
+keyindex
+pruint
+nextkey
+keyindex
+total
+msguids
+keyindex
+xffffffff
+prbool
+lastkey
+nextkey
+xffffffff
+lastkey
+cursequenceend
+curkey
+nextkey
+cursequenceend
+lastkey
+cursequenceend
+nextkey
+cursequenceend
+startsequence
+returnstring
+appendint
+startsequence
+returnstring
+returnstring
+appendint
+cursequenceend
+lastkey
+returnstring
+startsequence
+nextkey
+cursequenceend
+startsequence
+startsequence
+nextkey
+cursequenceend
+startsequence
+returnstring
+appendint
+msguids
+keyindex
+lastkey
+returnstring
\ No newline at end of file
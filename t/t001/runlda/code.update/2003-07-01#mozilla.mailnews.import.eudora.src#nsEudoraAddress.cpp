@@ -0,0 +1,1641 @@
+nscomptr
+nseudoraaddress
+nsaddrdatabase
+nsabbasecid
+nsiabcard
+nsiservicemanager
+nseudoraimport
+nsreadableutils
+nsdefinecid
+kabcardpropertycid
+nsabcardpropertycid
+eudoradebuglog
+define
+kwhitespace
+define
+addfieldtodbrow
+pdb
+func
+dbrow
+val
+unistr
+val
+isempty
+converttounicode
+val
+get
+unistr
+pdb
+func
+dbrow
+nsconvertucstoutf
+unistr
+get
+define
+keudoraaddressbuffersz
+ifdef
+importdebug
+dumpaliasarray
+nsvoidarray
+endif
+caliasdata
+caliasdata
+caliasdata
+prbool
+process
+pline
+print
+len
+nscstring
+mnickname
+nscstring
+mrealname
+nscstring
+memail
+caliasentry
+caliasentry
+nscstring
+name
+mname
+name
+caliasentry
+emptylist
+emptylist
+caliasdata
+pdata
+print
+mlist
+count
+pdata
+caliasdata
+mlist
+elementat
+pdata
+mlist
+clear
+nscstring
+mname
+nsvoidarray
+mlist
+nscstring
+mnotes
+nseudoraaddress
+nseudoraaddress
+nseudoraaddress
+nseudoraaddress
+emptyaliases
+nsresult
+nseudoraaddress
+importaddresses
+pruint
+pbytes
+prbool
+pabort
+prunichar
+pname
+nsifilespec
+psrc
+nsiaddrdatabase
+pdb
+nsstring
+errors
+emptyaliases
+nsresult
+rv
+psrc
+openstreamforreading
+nsfailed
+rv
+importlog
+error
+opening
+address
+file
+reading
+rv
+pline
+keudoraaddressbuffersz
+prbool
+wastruncated
+prbool
+eof
+prfalse
+rv
+psrc
+eof
+eof
+nsfailed
+rv
+importlog
+error
+checking
+address
+file
+eof
+psrc
+closestream
+rv
+pabort
+eof
+nssucceeded
+rv
+wastruncated
+prfalse
+rv
+psrc
+readline
+pline
+keudoraaddressbuffersz
+wastruncated
+wastruncated
+pline
+keudoraaddressbuffersz
+nssucceeded
+rv
+print
+len
+strlen
+pline
+processline
+pline
+len
+errors
+rv
+psrc
+eof
+eof
+pbytes
+pbytes
+len
+rv
+psrc
+closestream
+pline
+eof
+importlog
+error
+reading
+the
+address
+book
+didn
+reach
+the
+end
+nserrorfailure
+ifdef
+importdebug
+dumpaliasarray
+malias
+endif
+buildabcards
+pbytes
+pdb
+rv
+pdb
+commit
+nsaddrdbcommittype
+klargecommit
+rv
+print
+nseudoraaddress
+countwhitespace
+pline
+print
+len
+print
+cnt
+len
+pline
+pline
+len
+pline
+cnt
+cnt
+nseudoraaddress
+emptyaliases
+caliasentry
+pdata
+print
+malias
+count
+pdata
+caliasentry
+malias
+elementat
+pdata
+malias
+clear
+nseudoraaddress
+processline
+pline
+print
+len
+nsstring
+errors
+len
+print
+cnt
+caliasentry
+pentry
+nscrt
+strncmp
+pline
+alias
+pline
+len
+cnt
+countwhitespace
+pline
+len
+cnt
+pline
+cnt
+len
+cnt
+pentry
+processalias
+pline
+len
+errors
+nsnull
+malias
+appendelement
+pentry
+nscrt
+strncmp
+pline
+note
+pline
+len
+cnt
+countwhitespace
+pline
+len
+cnt
+pline
+cnt
+len
+cnt
+processnote
+pline
+len
+errors
+print
+nseudoraaddress
+getaliasname
+pline
+print
+len
+nscstring
+name
+name
+truncate
+len
+pstart
+pline
+end
+pline
+pline
+pstart
+len
+end
+end
+print
+cnt
+len
+pline
+end
+pline
+end
+len
+pline
+cnt
+cnt
+name
+append
+pstart
+cnt
+end
+cnt
+len
+pline
+cnt
+pline
+len
+cnt
+countwhitespace
+pline
+len
+cnt
+caliasentry
+nseudoraaddress
+processalias
+pline
+print
+len
+nsstring
+errors
+nscstring
+name
+print
+cnt
+getaliasname
+pline
+len
+name
+pline
+cnt
+len
+cnt
+caliasentry
+pentry
+caliasentry
+name
+cnt
+len
+pentry
+pstart
+print
+tlen
+nscstring
+alias
+len
+pstart
+pline
+cnt
+len
+pline
+pline
+tlen
+countquote
+pline
+len
+pline
+tlen
+len
+tlen
+cnt
+tlen
+pline
+tlen
+countcomment
+pline
+len
+pline
+tlen
+len
+tlen
+cnt
+tlen
+pline
+tlen
+countangle
+pline
+len
+pline
+tlen
+len
+tlen
+cnt
+tlen
+cnt
+pline
+len
+cnt
+caliasdata
+pdata
+caliasdata
+pdata
+process
+pstart
+cnt
+pentry
+mlist
+appendelement
+pdata
+pdata
+len
+pline
+pline
+len
+pentry
+nseudoraaddress
+processnote
+pline
+print
+len
+nsstring
+errors
+nscstring
+name
+print
+cnt
+getaliasname
+pline
+len
+name
+pline
+cnt
+len
+cnt
+cnt
+len
+caliasentry
+pentry
+nsnull
+print
+idx
+findalias
+name
+idx
+pentry
+caliasentry
+malias
+elementat
+idx
+pentry
+mnotes
+append
+pline
+len
+pentry
+mnotes
+trim
+kwhitespace
+print
+nseudoraaddress
+countquote
+pline
+print
+len
+len
+print
+cnt
+pline
+len
+len
+pline
+cnt
+len
+pline
+len
+cnt
+cnt
+print
+nseudoraaddress
+countangle
+pline
+print
+len
+len
+print
+cnt
+pline
+len
+len
+pline
+cnt
+len
+pline
+len
+cnt
+cnt
+print
+nseudoraaddress
+countcomment
+pline
+print
+len
+len
+print
+ccnt
+print
+cnt
+pline
+len
+len
+pline
+pline
+ccnt
+countcomment
+pline
+len
+cnt
+ccnt
+pline
+ccnt
+len
+ccnt
+cnt
+len
+pline
+len
+cnt
+cnt
+prbool
+caliasdata
+process
+pline
+print
+len
+nscstring
+str
+pstart
+pline
+print
+tcnt
+print
+cnt
+print
+max
+len
+prbool
+endcollect
+prfalse
+max
+pline
+tcnt
+endcollect
+str
+trim
+kwhitespace
+str
+isempty
+str
+append
+str
+append
+pstart
+tcnt
+cnt
+nseudoraaddress
+countquote
+pline
+max
+cnt
+mrealname
+isempty
+mrealname
+append
+pline
+cnt
+pline
+cnt
+max
+cnt
+pstart
+pline
+tcnt
+pline
+tcnt
+endcollect
+str
+trim
+kwhitespace
+str
+isempty
+str
+append
+str
+append
+pstart
+tcnt
+cnt
+nseudoraaddress
+countangle
+pline
+max
+cnt
+memail
+isempty
+memail
+append
+pline
+cnt
+pline
+cnt
+max
+cnt
+pstart
+pline
+tcnt
+endcollect
+prtrue
+pline
+tcnt
+endcollect
+str
+trim
+kwhitespace
+str
+isempty
+str
+append
+str
+append
+pstart
+tcnt
+cnt
+nseudoraaddress
+countcomment
+pline
+max
+cnt
+mrealname
+isempty
+mnickname
+isempty
+mnickname
+mrealname
+mrealname
+truncate
+mrealname
+append
+pline
+cnt
+pline
+cnt
+max
+cnt
+pstart
+pline
+tcnt
+tcnt
+pline
+max
+tcnt
+str
+trim
+kwhitespace
+str
+isempty
+str
+append
+str
+append
+pstart
+tcnt
+str
+trim
+kwhitespace
+mrealname
+isempty
+memail
+isempty
+prtrue
+memail
+isempty
+mrealname
+str
+prtrue
+tcnt
+str
+rfindchar
+tcnt
+str
+isempty
+memail
+str
+prtrue
+prfalse
+str
+right
+memail
+str
+length
+tcnt
+str
+left
+mrealname
+tcnt
+mrealname
+trim
+kwhitespace
+memail
+trim
+kwhitespace
+memail
+isempty
+ifdef
+importdebug
+dumpaliasarray
+nsvoidarray
+caliasentry
+pentry
+caliasdata
+pdata
+print
+cnt
+count
+importlog
+alias
+list
+size
+ld
+cnt
+print
+cnt
+pentry
+caliasentry
+elementat
+importlog
+talias
+pentry
+mname
+get
+pentry
+mlist
+count
+importlog
+tlist
+count
+ld
+pentry
+mlist
+count
+print
+pentry
+mlist
+count
+pdata
+caliasdata
+pentry
+mlist
+elementat
+importlog
+importlog
+temail
+pdata
+memail
+get
+importlog
+trealname
+pdata
+mrealname
+get
+importlog
+tnickname
+pdata
+mnickname
+get
+pentry
+mlist
+count
+pdata
+caliasdata
+pentry
+mlist
+elementat
+importlog
+temail
+pdata
+memail
+get
+importlog
+trealname
+pdata
+mrealname
+get
+importlog
+tnickname
+pdata
+mnickname
+get
+endif
+caliasentry
+nseudoraaddress
+resolvealias
+nscstring
+name
+print
+max
+malias
+count
+caliasentry
+pentry
+print
+max
+pentry
+caliasentry
+malias
+elementat
+name
+equals
+pentry
+mname
+nscaseinsensitivecstringcomparator
+pentry
+nsnull
+nseudoraaddress
+resolveentries
+nscstring
+name
+nsvoidarray
+list
+nsvoidarray
+result
+result
+count
+malias
+count
+print
+max
+list
+count
+print
+caliasdata
+pdata
+caliasentry
+pentry
+max
+pdata
+caliasdata
+list
+elementat
+name
+equals
+pdata
+memail
+nscaseinsensitivecstringcomparator
+pentry
+resolvealias
+pdata
+memail
+nsnull
+resolveentries
+pentry
+mname
+pentry
+mlist
+result
+result
+appendelement
+pdata
+print
+nseudoraaddress
+findalias
+nscstring
+name
+caliasentry
+pentry
+print
+max
+malias
+count
+print
+max
+pentry
+caliasentry
+malias
+elementat
+pentry
+mname
+name
+nseudoraaddress
+buildabcards
+pruint
+pbytes
+nsiaddrdatabase
+pdb
+caliasentry
+pentry
+print
+max
+malias
+count
+print
+nsvoidarray
+emaillist
+nsvoidarray
+membersarray
+nsvoidarray
+groupsarray
+max
+pentry
+caliasentry
+malias
+elementat
+resolveentries
+pentry
+mname
+pentry
+mlist
+emaillist
+emaillist
+count
+remembergroupmembers
+membersarray
+emaillist
+groupsarray
+appendelement
+pentry
+addsinglecard
+pentry
+emaillist
+pdb
+emaillist
+clear
+pbytes
+pbytes
+pentry
+mname
+length
+pentry
+mnotes
+length
+nsresult
+rv
+addgroupmembersascards
+membersarray
+pdb
+nsfailed
+rv
+max
+groupsarray
+count
+max
+pentry
+caliasentry
+groupsarray
+elementat
+resolveentries
+pentry
+mname
+pentry
+mlist
+emaillist
+addsinglelist
+pentry
+emaillist
+pdb
+emaillist
+clear
+nseudoraaddress
+extractnotefield
+nscstring
+note
+nscstring
+value
+pfieldname
+value
+truncate
+nscstring
+field
+field
+append
+pfieldname
+field
+append
+print
+idx
+note
+find
+field
+idx
+idx
+field
+length
+print
+endidx
+note
+findchar
+idx
+endidx
+endidx
+note
+length
+note
+mid
+value
+idx
+endidx
+idx
+idx
+field
+length
+nscstring
+templ
+idx
+note
+left
+templ
+idx
+nscstring
+tempr
+note
+right
+tempr
+note
+length
+endidx
+note
+templ
+note
+append
+tempr
+nseudoraaddress
+sanitizevalue
+nscstring
+val
+val
+replacesubstring
+xd
+xa
+val
+replacechar
+val
+replacechar
+nseudoraaddress
+splitstring
+nscstring
+val
+nscstring
+val
+nscstring
+temp
+print
+idx
+val
+rfind
+xd
+xa
+print
+cnt
+idx
+cnt
+idx
+val
+rfindchar
+idx
+idx
+val
+rfindchar
+idx
+val
+right
+val
+val
+length
+idx
+cnt
+val
+left
+temp
+idx
+val
+temp
+sanitizevalue
+val
+nseudoraaddress
+addsinglecard
+caliasentry
+pentry
+nsvoidarray
+emaillist
+nsiaddrdatabase
+pdb
+nsimdbrow
+newrow
+nsnull
+pdb
+getnewrow
+newrow
+newrow
+nscstring
+displayname
+name
+firstname
+lastname
+nscstring
+fax
+phone
+mobile
+weblink
+nscstring
+address
+address
+city
+state
+zip
+country
+nscstring
+phonewk
+weblinkwk
+title
+company
+nscstring
+addresswk
+addresswk
+citywk
+statewk
+zipwk
+countrywk
+nscstring
+note
+pentry
+mnotes
+note
+isempty
+extractnotefield
+note
+fax
+fax
+extractnotefield
+note
+phone
+phone
+extractnotefield
+note
+mobile
+mobile
+extractnotefield
+note
+address
+address
+extractnotefield
+note
+city
+city
+extractnotefield
+note
+state
+state
+extractnotefield
+note
+zip
+zip
+extractnotefield
+note
+country
+country
+extractnotefield
+note
+name
+name
+extractnotefield
+note
+firstname
+first
+extractnotefield
+note
+lastname
+last
+extractnotefield
+note
+weblink
+web
+extractnotefield
+note
+addresswk
+address
+extractnotefield
+note
+citywk
+city
+extractnotefield
+note
+statewk
+state
+extractnotefield
+note
+zipwk
+zip
+extractnotefield
+note
+countrywk
+country
+extractnotefield
+note
+phonewk
+phone
+extractnotefield
+note
+title
+title
+extractnotefield
+note
+company
+company
+extractnotefield
+note
+weblinkwk
+web
+caliasdata
+pdata
+emaillist
+count
+caliasdata
+emaillist
+elementat
+nsnull
+pdata
+pdata
+mrealname
+isempty
+displayname
+pdata
+mrealname
+name
+isempty
+displayname
+name
+displayname
+pentry
+mname
+address
+replacesubstring
+xd
+xa
+splitstring
+address
+address
+note
+replacesubstring
+xd
+xa
+fax
+replacesubstring
+phone
+replacesubstring
+name
+replacesubstring
+city
+replacesubstring
+state
+replacesubstring
+zip
+replacesubstring
+country
+replacesubstring
+addresswk
+replacesubstring
+xd
+xa
+splitstring
+addresswk
+addresswk
+phonewk
+replacesubstring
+citywk
+replacesubstring
+statewk
+replacesubstring
+zipwk
+replacesubstring
+countrywk
+replacesubstring
+title
+replacesubstring
+company
+replacesubstring
+newrow
+nsautostring
+unistr
+addfieldtodbrow
+pdb
+adddisplayname
+newrow
+displayname
+unistr
+addfieldtodbrow
+pdb
+addnickname
+newrow
+pentry
+mname
+unistr
+pdata
+addfieldtodbrow
+pdb
+addprimaryemail
+newrow
+pdata
+memail
+unistr
+addfieldtodbrow
+pdb
+addfirstname
+newrow
+firstname
+unistr
+addfieldtodbrow
+pdb
+addlastname
+newrow
+lastname
+unistr
+addfieldtodbrow
+pdb
+addwebpage
+newrow
+weblink
+unistr
+addfieldtodbrow
+pdb
+addfaxnumber
+newrow
+fax
+unistr
+addfieldtodbrow
+pdb
+addhomephone
+newrow
+phone
+unistr
+addfieldtodbrow
+pdb
+addhomeaddress
+newrow
+address
+unistr
+addfieldtodbrow
+pdb
+addhomeaddress
+newrow
+address
+unistr
+addfieldtodbrow
+pdb
+addhomecity
+newrow
+city
+unistr
+addfieldtodbrow
+pdb
+addhomezipcode
+newrow
+zip
+unistr
+addfieldtodbrow
+pdb
+addhomestate
+newrow
+state
+unistr
+addfieldtodbrow
+pdb
+addhomecountry
+newrow
+country
+unistr
+addfieldtodbrow
+pdb
+addcellularnumber
+newrow
+mobile
+unistr
+addfieldtodbrow
+pdb
+addjobtitle
+newrow
+title
+unistr
+addfieldtodbrow
+pdb
+addcompany
+newrow
+company
+unistr
+addfieldtodbrow
+pdb
+addwebpage
+newrow
+weblinkwk
+unistr
+addfieldtodbrow
+pdb
+addworkphone
+newrow
+phonewk
+unistr
+addfieldtodbrow
+pdb
+addworkaddress
+newrow
+addresswk
+unistr
+addfieldtodbrow
+pdb
+addworkaddress
+newrow
+addresswk
+unistr
+addfieldtodbrow
+pdb
+addworkcity
+newrow
+citywk
+unistr
+addfieldtodbrow
+pdb
+addworkzipcode
+newrow
+zipwk
+unistr
+addfieldtodbrow
+pdb
+addworkstate
+newrow
+statewk
+unistr
+addfieldtodbrow
+pdb
+addworkcountry
+newrow
+countrywk
+unistr
+addfieldtodbrow
+pdb
+addnotes
+newrow
+note
+unistr
+pdb
+addcardrowtodb
+newrow
+importlog
+added
+card
+to
+db
+displayname
+get
+nseudoraaddress
+remembergroupmembers
+nsvoidarray
+membersarray
+nsvoidarray
+emaillist
+print
+cnt
+emaillist
+count
+caliasdata
+pdata
+print
+cnt
+pdata
+caliasdata
+emaillist
+elementat
+pdata
+print
+membercnt
+membersarray
+count
+print
+membercnt
+pdata
+membersarray
+elementat
+membercnt
+membersarray
+appendelement
+pdata
+nsresult
+nseudoraaddress
+addgroupmembersascards
+nsvoidarray
+membersarray
+nsiaddrdatabase
+pdb
+print
+max
+membersarray
+count
+caliasdata
+pdata
+nsresult
+rv
+nsok
+nscomptr
+nsimdbrow
+newrow
+nsautostring
+unistr
+nscautostring
+displayname
+print
+max
+pdata
+caliasdata
+membersarray
+elementat
+pdata
+pdata
+memail
+isempty
+rv
+pdb
+getnewrow
+getteraddrefs
+newrow
+nsfailed
+rv
+newrow
+rv
+pdata
+mrealname
+isempty
+displayname
+pdata
+mrealname
+pdata
+mnickname
+isempty
+displayname
+pdata
+mnickname
+displayname
+truncate
+addfieldtodbrow
+pdb
+adddisplayname
+newrow
+displayname
+unistr
+addfieldtodbrow
+pdb
+addprimaryemail
+newrow
+pdata
+memail
+unistr
+rv
+pdb
+addcardrowtodb
+newrow
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nseudoraaddress
+addsinglelist
+caliasentry
+pentry
+nsvoidarray
+emaillist
+nsiaddrdatabase
+pdb
+nscomptr
+nsimdbrow
+newrow
+nsresult
+rv
+pdb
+getnewlistrow
+getteraddrefs
+newrow
+nsfailed
+rv
+newrow
+rv
+rv
+pdb
+addlistname
+newrow
+pentry
+mname
+get
+nsensuresuccess
+rv
+rv
+print
+max
+emaillist
+count
+print
+max
+caliasdata
+pdata
+caliasdata
+emaillist
+elementat
+nscautostring
+ldifvalue
+nsliteralcstring
+mail
+nsdependentcstring
+pdata
+memail
+get
+rv
+pdb
+addldiflistmember
+newrow
+ldifvalue
+get
+rv
+pdb
+addcardrowtodb
+newrow
+nsensuresuccess
+rv
+rv
+rv
+pdb
+addlistdirnode
+newrow
+rv nsresult
\ No newline at end of file
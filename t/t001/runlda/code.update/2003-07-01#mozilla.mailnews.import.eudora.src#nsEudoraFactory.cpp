@@ -0,0 +1,87 @@
+nscomptr
+nsimodule
+nsigenericfactory
+nsiservicemanager
+nsiimportservice
+nseudoraimport
+nscrt
+nsicategorymanager
+nsxpidlstring
+nseudorastringbundle
+eudoradebuglog
+nsdefinecid
+keudoraimportcid
+nseudoraimportcid
+nsmethod
+eudoraregister
+nsicomponentmanager
+acompmgr
+nsifile
+apath
+registrylocation
+componenttype
+nsmodulecomponentinfo
+info
+nsresult
+rv
+nscomptr
+nsicategorymanager
+catman
+dogetservice
+nscategorymanagercontractid
+rv
+nssucceeded
+rv
+nsxpidlcstring
+replace
+thecid
+keudoraimportcid
+tostring
+rv
+catman
+addcategoryentry
+mailnewsimport
+thecid
+keudorasupportsstring
+prtrue
+prtrue
+gettercopies
+replace
+nscrt
+free
+thecid
+nsfailed
+rv
+importlog
+error
+problem
+registering
+eudora
+component
+in
+the
+category
+manager
+rv
+nsgenericfactoryconstructor
+nseudoraimport
+nsmodulecomponentinfo
+components
+text
+import
+component
+nseudoraimportcid
+eudora
+nseudoraimportconstructor
+eudoraregister
+nsnull
+prstaticcallback
+eudoramoduledtor
+nsimodule
+self
+nseudorastringbundle
+cleanup
+nsimplnsgetmodulewithdtor
+nseudoraimportmodule
+components
+eudoramoduledtor
\ No newline at end of file
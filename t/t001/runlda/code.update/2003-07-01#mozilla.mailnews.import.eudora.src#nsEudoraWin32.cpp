@@ -0,0 +1,2772 @@
+nscomptr
+nsreadableutils
+nsicomponentmanager
+nsiservicemanager
+nsimsgaccountmanager
+nsimsgaccount
+nsipopincomingserver
+nsmsgbasecid
+nsmsgcompcid
+nsismtpservice
+nsismtpserver
+nseudorawin
+nsiimportservice
+nsiimportmailboxdescriptor
+nsiimportabdescriptor
+nseudorastringbundle
+nseudoraimport
+nsunicharutils
+eudoradebuglog
+nsdefineiid
+kisupportsiid
+nsisupportsiid
+nsdefinecid
+kcomponentmanagercid
+nscomponentmanagercid
+kwhitespace
+byte
+nseudorawin
+getvaluebytes
+hkey
+hkey
+pvaluename
+long
+err
+dword
+bufsz
+lpbyte
+pbytes
+err
+regqueryvalueex
+hkey
+pvaluename
+bufsz
+err
+errorsuccess
+pbytes
+byte
+bufsz
+err
+regqueryvalueex
+hkey
+pvaluename
+pbytes
+bufsz
+err
+errorsuccess
+pbytes
+pbytes
+pbytes
+nseudorawin
+nseudorawin
+mmailimportlocation
+nsnull
+maddressimportfolder
+nsnull
+mpmimesection
+nsnull
+nseudorawin
+nseudorawin
+nsifrelease
+mmailimportlocation
+nsifrelease
+maddressimportfolder
+mpmimesection
+mpmimesection
+prbool
+nseudorawin
+findmailfolder
+nsifilespec
+pfolder
+findeudoralocation
+pfolder
+prbool
+nseudorawin
+findeudoralocation
+nsifilespec
+pfolder
+prbool
+findini
+prbool
+result
+prfalse
+hkey
+skey
+regopenkeyex
+hkeycurrentuser
+software
+qualcomm
+eudora
+commandline
+keyqueryvalue
+skey
+errorsuccess
+byte
+pbytes
+getvaluebytes
+skey
+current
+pbytes
+nscstring
+str
+pbytes
+pbytes
+idx
+str
+charat
+idx
+str
+findchar
+idx
+idx
+idx
+str
+findchar
+idx
+findini
+idx
+str
+charat
+idx
+idx
+eidx
+str
+charat
+idx
+eidx
+str
+findchar
+idx
+eidx
+str
+findchar
+idx
+idx
+eidx
+idx
+idx
+str
+charat
+idx
+idx
+endidx
+str
+charat
+idx
+endidx
+str
+findchar
+idx
+endidx
+str
+findchar
+idx
+endidx
+nscstring
+path
+str
+mid
+path
+idx
+endidx
+idx
+pfolder
+setnativepath
+path
+get
+prbool
+exists
+prfalse
+findini
+nssucceeded
+pfolder
+isfile
+exists
+result
+exists
+nssucceeded
+pfolder
+isdirectory
+exists
+result
+exists
+regclosekey
+skey
+result
+nsresult
+nseudorawin
+findmailboxes
+nsifilespec
+proot
+nsisupportsarray
+pparray
+nsresult
+rv
+nsnewisupportsarray
+pparray
+nsfailed
+rv
+importlog
+failed
+to
+allocate
+the
+nsisupportsarray
+rv
+nscomptr
+nsiimportservice
+impsvc
+dogetservice
+nsimportservicecontractid
+rv
+nsfailed
+rv
+rv
+mdepth
+nsifrelease
+mmailimportlocation
+mmailimportlocation
+proot
+nsifaddref
+mmailimportlocation
+scanmaildir
+proot
+pparray
+impsvc
+nsresult
+nseudorawin
+scanmaildir
+nsifilespec
+pfolder
+nsisupportsarray
+parray
+nsiimportservice
+pimport
+prbool
+exists
+prfalse
+prbool
+isfile
+prfalse
+pcontents
+nsnull
+print
+len
+nscomptr
+nsifilespec
+descmap
+nsresult
+rv
+nsfailed
+rv
+nsnewfilespec
+getteraddrefs
+descmap
+rv
+mdepth
+descmap
+fromfilespec
+pfolder
+rv
+descmap
+appendrelativeunixpath
+descmap
+pce
+nssucceeded
+rv
+rv
+descmap
+isfile
+isfile
+nssucceeded
+rv
+rv
+descmap
+exists
+exists
+nssucceeded
+rv
+exists
+isfile
+rv
+descmap
+getfilecontents
+pcontents
+nssucceeded
+rv
+pcontents
+len
+strlen
+pcontents
+nssucceeded
+rv
+rv
+scandescmap
+pfolder
+parray
+pimport
+pcontents
+len
+nscrt
+free
+pcontents
+rv
+nserrorfailure
+nsfailed
+rv
+isfile
+exists
+rv
+iteratemaildir
+pfolder
+parray
+pimport
+mdepth
+rv
+nsresult
+nseudorawin
+iteratemaildir
+nsifilespec
+pfolder
+nsisupportsarray
+parray
+nsiimportservice
+pimport
+nscomptr
+nsidirectoryiterator
+dir
+nsresult
+rv
+nsnewdirectoryiterator
+getteraddrefs
+dir
+nsfailed
+rv
+rv
+prbool
+exists
+prfalse
+rv
+dir
+init
+pfolder
+prtrue
+nsfailed
+rv
+rv
+rv
+dir
+exists
+exists
+nsfailed
+rv
+rv
+prbool
+isfolder
+prbool
+isfile
+nscomptr
+nsifilespec
+entry
+pname
+nscstring
+fname
+nscstring
+ext
+nscstring
+name
+exists
+nssucceeded
+rv
+rv
+dir
+getcurrentspec
+getteraddrefs
+entry
+nssucceeded
+rv
+rv
+entry
+getleafname
+pname
+nssucceeded
+rv
+pname
+fname
+pname
+nscrt
+free
+pname
+fname
+length
+fname
+right
+ext
+fname
+left
+name
+fname
+length
+ext
+truncate
+name
+fname
+tolowercase
+ext
+ext
+equals
+nsliteralcstring
+fol
+isfolder
+prfalse
+entry
+isdirectory
+isfolder
+isfolder
+rv
+foundmailfolder
+entry
+name
+get
+parray
+pimport
+nssucceeded
+rv
+rv
+scanmaildir
+entry
+parray
+pimport
+nsfailed
+rv
+importlog
+error
+scanning
+mail
+directory
+ext
+equals
+nsliteralcstring
+mbx
+isfile
+prfalse
+entry
+isfile
+isfile
+isfile
+rv
+foundmailbox
+entry
+name
+get
+parray
+pimport
+rv
+dir
+next
+nssucceeded
+rv
+rv
+dir
+exists
+exists
+rv
+nsresult
+nseudorawin
+scandescmap
+nsifilespec
+pfolder
+nsisupportsarray
+parray
+nsiimportservice
+pimport
+pdata
+print
+len
+nscomptr
+nsifilespec
+entry
+nsresult
+rv
+nsfailed
+rv
+nsnewfilespec
+getteraddrefs
+entry
+rv
+print
+fieldlen
+print
+pos
+pstart
+nscstring
+name
+nscstring
+fname
+nscstring
+type
+nscstring
+flag
+prbool
+isfile
+prbool
+isfolder
+pos
+len
+pstart
+pdata
+fieldlen
+pos
+len
+pdata
+pos
+pdata
+fieldlen
+name
+truncate
+fieldlen
+name
+append
+pstart
+fieldlen
+name
+trim
+kwhitespace
+pos
+pdata
+pstart
+pdata
+fieldlen
+pos
+len
+pdata
+pos
+pdata
+fieldlen
+fname
+truncate
+fieldlen
+fname
+append
+pstart
+fieldlen
+fname
+trim
+kwhitespace
+pos
+pdata
+pstart
+pdata
+fieldlen
+pos
+len
+pdata
+pos
+pdata
+fieldlen
+type
+truncate
+fieldlen
+type
+append
+pstart
+fieldlen
+type
+trim
+kwhitespace
+pos
+pdata
+pstart
+pdata
+fieldlen
+pos
+len
+pdata
+xd
+pdata
+xa
+pdata
+pos
+pdata
+fieldlen
+flag
+truncate
+fieldlen
+flag
+append
+pstart
+fieldlen
+flag
+trim
+kwhitespace
+pos
+len
+pdata
+xd
+pdata
+xa
+pos
+pdata
+importlog
+name
+fname
+name
+get
+fname
+get
+fname
+isempty
+name
+isempty
+type
+length
+entry
+fromfilespec
+pfolder
+rv
+entry
+appendrelativeunixpath
+fname
+get
+nssucceeded
+rv
+type
+charat
+isfolder
+prfalse
+entry
+isdirectory
+isfolder
+isfolder
+rv
+foundmailfolder
+entry
+name
+get
+parray
+pimport
+nssucceeded
+rv
+rv
+scanmaildir
+entry
+parray
+pimport
+nsfailed
+rv
+importlog
+error
+scanning
+mail
+directory
+type
+charat
+type
+charat
+isfile
+prfalse
+entry
+isfile
+isfile
+isfile
+foundmailbox
+entry
+name
+get
+parray
+pimport
+nsok
+nsresult
+nseudorawin
+foundmailbox
+nsifilespec
+mailfile
+pname
+nsisupportsarray
+parray
+nsiimportservice
+pimport
+nsstring
+displayname
+nscomptr
+nsiimportmailboxdescriptor
+desc
+nsisupports
+pinterface
+converttounicode
+pname
+displayname
+ifdef
+importdebug
+ppath
+nsnull
+mailfile
+getnativepath
+ppath
+ppath
+importlog
+found
+eudora
+mailbox
+ppath
+pname
+nscrt
+free
+ppath
+importlog
+found
+eudora
+mailbox
+pname
+importlog
+tmdepth
+mdepth
+endif
+nsresult
+rv
+pimport
+createnewmailboxdescriptor
+getteraddrefs
+desc
+nssucceeded
+rv
+pruint
+sz
+mailfile
+getfilesize
+sz
+desc
+setdisplayname
+displayname
+get
+desc
+setdepth
+mdepth
+desc
+setsize
+sz
+nsifilespec
+pspec
+nsnull
+desc
+getfilespec
+pspec
+pspec
+pspec
+fromfilespec
+mailfile
+nsrelease
+pspec
+rv
+desc
+queryinterface
+kisupportsiid
+pinterface
+parray
+appendelement
+pinterface
+pinterface
+release
+nsok
+nsresult
+nseudorawin
+foundmailfolder
+nsifilespec
+mailfolder
+pname
+nsisupportsarray
+parray
+nsiimportservice
+pimport
+nsstring
+displayname
+nscomptr
+nsiimportmailboxdescriptor
+desc
+nsisupports
+pinterface
+converttounicode
+pname
+displayname
+ifdef
+importdebug
+ppath
+nsnull
+mailfolder
+getnativepath
+ppath
+ppath
+importlog
+found
+eudora
+folder
+ppath
+pname
+nscrt
+free
+ppath
+importlog
+found
+eudora
+folder
+pname
+importlog
+tmdepth
+mdepth
+endif
+nsresult
+rv
+pimport
+createnewmailboxdescriptor
+getteraddrefs
+desc
+nssucceeded
+rv
+pruint
+sz
+desc
+setdisplayname
+displayname
+get
+desc
+setdepth
+mdepth
+desc
+setsize
+sz
+nsifilespec
+pspec
+nsnull
+desc
+getfilespec
+pspec
+pspec
+pspec
+fromfilespec
+mailfolder
+nsrelease
+pspec
+rv
+desc
+queryinterface
+kisupportsiid
+pinterface
+parray
+appendelement
+pinterface
+pinterface
+release
+nsok
+nsresult
+nseudorawin
+findtocfile
+nsifilespec
+pmailfile
+nsifilespec
+pptocfile
+prbool
+pdeletetoc
+nsresult
+rv
+pname
+nsnull
+pdeletetoc
+prfalse
+pptocfile
+nsnull
+rv
+pmailfile
+getleafname
+pname
+nsfailed
+rv
+rv
+rv
+pmailfile
+getparent
+pptocfile
+nsfailed
+rv
+rv
+nscstring
+leaf
+pname
+nscrt
+free
+pname
+nscstring
+name
+leaf
+length
+leaf
+charat
+leaf
+length
+leaf
+left
+name
+leaf
+length
+name
+leaf
+name
+append
+toc
+rv
+pptocfile
+appendrelativeunixpath
+name
+get
+nsfailed
+rv
+rv
+prbool
+exists
+prfalse
+rv
+pptocfile
+exists
+exists
+nsfailed
+rv
+rv
+prbool
+isfile
+prfalse
+rv
+pptocfile
+isfile
+isfile
+nsfailed
+rv
+rv
+exists
+isfile
+nsok
+nserrorfailure
+prbool
+nseudorawin
+importsettings
+nsifilespec
+pinifile
+nsimsgaccount
+localmailaccount
+prbool
+result
+prfalse
+nsresult
+rv
+nscomptr
+nsimsgaccountmanager
+accmgr
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsfailed
+rv
+importlog
+failed
+to
+create
+account
+manager
+prfalse
+pinipath
+nsnull
+pinifile
+getnativepath
+pinipath
+pinipath
+prfalse
+nscstring
+inipath
+pinipath
+nscrt
+free
+pinipath
+uint
+valint
+simplebuffertonyrcopiedonce
+section
+dword
+ssize
+dword
+soffset
+dword
+start
+nscstring
+sectionname
+settings
+popcount
+accounts
+dword
+allocsize
+allocsize
+section
+allocate
+allocsize
+ssize
+getprivateprofilesection
+personalities
+section
+mpbuffer
+allocsize
+inipath
+get
+ssize
+allocsize
+nsimsgaccount
+paccount
+sectionname
+isempty
+paccount
+nsnull
+valint
+getprivateprofileint
+sectionname
+get
+usespop
+inipath
+get
+valint
+buildpopaccount
+accmgr
+sectionname
+get
+inipath
+get
+paccount
+accounts
+popcount
+popcount
+localmailaccount
+localmailaccount
+nsrelease
+localmailaccount
+localmailaccount
+nsnull
+localmailaccount
+localmailaccount
+paccount
+nsifaddref
+paccount
+valint
+getprivateprofileint
+sectionname
+get
+usesimap
+inipath
+get
+valint
+buildimapaccount
+accmgr
+sectionname
+get
+inipath
+get
+paccount
+accounts
+paccount
+soffset
+accmgr
+setdefaultaccount
+paccount
+nsifrelease
+paccount
+sectionname
+truncate
+soffset
+ssize
+section
+mpbuffer
+soffset
+soffset
+soffset
+start
+soffset
+soffset
+ssize
+section
+mpbuffer
+soffset
+soffset
+soffset
+start
+sectionname
+append
+section
+mpbuffer
+start
+soffset
+start
+sectionname
+trim
+kwhitespace
+soffset
+ssize
+rv
+accmgr
+saveaccountinfo
+nsassertion
+nssucceeded
+rv
+can
+save
+account
+info
+to
+pref
+file
+accounts
+define
+kinivaluesize
+nseudorawin
+getserverandusername
+psection
+pini
+nscstring
+servername
+nscstring
+username
+pbuff
+dword
+valsize
+idx
+nscstring
+tstr
+servername
+truncate
+username
+truncate
+valsize
+getprivateprofilestring
+psection
+popserver
+pbuff
+kinivaluesize
+pini
+valsize
+servername
+pbuff
+valsize
+getprivateprofilestring
+psection
+popaccount
+pbuff
+kinivaluesize
+pini
+valsize
+servername
+pbuff
+idx
+servername
+findchar
+idx
+servername
+right
+tstr
+servername
+length
+idx
+servername
+tstr
+valsize
+getprivateprofilestring
+psection
+loginname
+pbuff
+kinivaluesize
+pini
+valsize
+username
+pbuff
+valsize
+getprivateprofilestring
+psection
+popaccount
+pbuff
+kinivaluesize
+pini
+valsize
+username
+pbuff
+idx
+username
+findchar
+idx
+username
+left
+tstr
+idx
+username
+tstr
+nseudorawin
+getaccountname
+psection
+nsstring
+str
+str
+truncate
+nscstring
+psection
+equals
+nsliteralcstring
+settings
+nscaseinsensitivecstringcomparator
+str
+assign
+nsliteralstring
+eudora
+str
+appendwithconversion
+psection
+nscstring
+tstr
+str
+assignwithconversion
+psection
+length
+left
+tstr
+tstr
+equals
+nsliteralcstring
+persona
+nscaseinsensitivecstringcomparator
+right
+tstr
+length
+str
+assignwithconversion
+tstr
+get
+prbool
+nseudorawin
+buildpopaccount
+nsimsgaccountmanager
+accmgr
+psection
+pini
+nsimsgaccount
+ppaccount
+ppaccount
+ppaccount
+nsnull
+valbuff
+kinivaluesize
+nscstring
+servername
+nscstring
+username
+getserverandusername
+psection
+pini
+servername
+username
+valbuff
+servername
+isempty
+username
+isempty
+prfalse
+prbool
+result
+prfalse
+nscomptr
+nsimsgincomingserver
+in
+nsresult
+rv
+accmgr
+findserver
+username
+get
+servername
+get
+pop
+getteraddrefs
+in
+nsfailed
+rv
+in
+nsnull
+rv
+accmgr
+createincomingserver
+username
+get
+servername
+get
+pop
+getteraddrefs
+in
+nssucceeded
+rv
+in
+rv
+in
+settype
+pop
+importlog
+created
+pop
+server
+named
+username
+servername
+get
+username
+get
+nsstring
+prettyname
+getaccountname
+psection
+prettyname
+prunichar
+pretty
+tonewunicode
+prettyname
+importlog
+tset
+pretty
+name
+to
+pretty
+rv
+in
+setprettyname
+pretty
+nscrt
+free
+pretty
+nscomptr
+nsimsgaccount
+account
+rv
+accmgr
+createaccount
+getteraddrefs
+account
+nssucceeded
+rv
+account
+rv
+account
+setincomingserver
+in
+importlog
+created
+account
+set
+the
+incoming
+server
+to
+the
+pop
+server
+nscomptr
+nsipopincomingserver
+popserver
+doqueryinterface
+in
+rv
+nsensuresuccess
+rv
+rv
+uint
+valint
+getprivateprofileint
+psection
+leavemailonserver
+pini
+popserver
+setleavemessagesonserver
+valint
+prtrue
+prfalse
+setidentities
+accmgr
+account
+psection
+pini
+username
+get
+servername
+get
+valbuff
+result
+prtrue
+ppaccount
+account
+queryinterface
+nsgetiid
+nsimsgaccount
+ppaccount
+result
+prtrue
+result
+prbool
+nseudorawin
+buildimapaccount
+nsimsgaccountmanager
+accmgr
+psection
+pini
+nsimsgaccount
+ppaccount
+valbuff
+kinivaluesize
+nscstring
+servername
+nscstring
+username
+getserverandusername
+psection
+pini
+servername
+username
+valbuff
+servername
+isempty
+username
+isempty
+prfalse
+prbool
+result
+prfalse
+nscomptr
+nsimsgincomingserver
+in
+nsresult
+rv
+accmgr
+findserver
+username
+get
+servername
+get
+imap
+getteraddrefs
+in
+nsfailed
+rv
+in
+nsnull
+rv
+accmgr
+createincomingserver
+username
+get
+servername
+get
+imap
+getteraddrefs
+in
+nssucceeded
+rv
+in
+rv
+in
+settype
+imap
+importlog
+created
+imap
+server
+named
+username
+servername
+get
+username
+get
+nsstring
+prettyname
+getaccountname
+psection
+prettyname
+prunichar
+pretty
+tonewunicode
+prettyname
+importlog
+tset
+pretty
+name
+to
+pretty
+rv
+in
+setprettyname
+pretty
+nscrt
+free
+pretty
+nscomptr
+nsimsgaccount
+account
+rv
+accmgr
+createaccount
+getteraddrefs
+account
+nssucceeded
+rv
+account
+rv
+account
+setincomingserver
+in
+importlog
+created
+an
+account
+set
+the
+imap
+server
+as
+the
+incoming
+server
+setidentities
+accmgr
+account
+psection
+pini
+username
+get
+servername
+get
+valbuff
+result
+prtrue
+ppaccount
+account
+queryinterface
+nsgetiid
+nsimsgaccount
+ppaccount
+result
+prtrue
+result
+nseudorawin
+setidentities
+nsimsgaccountmanager
+accmgr
+nsimsgaccount
+acc
+psection
+pinifile
+username
+servername
+pbuff
+nscautostring
+realname
+nscautostring
+email
+nscautostring
+server
+dword
+valsize
+nsresult
+rv
+valsize
+getprivateprofilestring
+psection
+realname
+pbuff
+kinivaluesize
+pinifile
+valsize
+realname
+pbuff
+valsize
+getprivateprofilestring
+psection
+smtpserver
+pbuff
+kinivaluesize
+pinifile
+valsize
+server
+pbuff
+valsize
+getprivateprofilestring
+psection
+returnaddress
+pbuff
+kinivaluesize
+pinifile
+valsize
+email
+pbuff
+nscomptr
+nsimsgidentity
+id
+rv
+accmgr
+createidentity
+getteraddrefs
+id
+id
+nsautostring
+fullname
+fullname
+assignwithconversion
+realname
+get
+id
+setfullname
+fullname
+get
+id
+setidentityname
+fullname
+get
+email
+isempty
+email
+username
+email
+email
+servername
+id
+setemail
+email
+get
+acc
+addidentity
+id
+importlog
+created
+identity
+added
+to
+the
+account
+importlog
+tname
+realname
+get
+importlog
+temail
+email
+get
+setsmtpserver
+accmgr
+acc
+server
+get
+username
+nseudorawin
+setsmtpserver
+nsimsgaccountmanager
+pmgr
+nsimsgaccount
+pacc
+pserver
+puser
+nsresult
+rv
+nscomptr
+nsismtpservice
+smtpservice
+dogetservice
+nssmtpservicecontractid
+rv
+nssucceeded
+rv
+smtpservice
+nscomptr
+nsismtpserver
+foundserver
+rv
+smtpservice
+findserver
+puser
+pserver
+getteraddrefs
+foundserver
+nssucceeded
+rv
+foundserver
+importlog
+smtp
+server
+already
+exists
+pserver
+nscomptr
+nsismtpserver
+smtpserver
+rv
+smtpservice
+createsmtpserver
+getteraddrefs
+smtpserver
+nssucceeded
+rv
+smtpserver
+smtpserver
+sethostname
+pserver
+puser
+smtpserver
+setusername
+puser
+importlog
+created
+smtp
+server
+pserver
+nsresult
+nseudorawin
+getattachmentinfo
+pfilename
+nsifilespec
+pspec
+nscstring
+mimetype
+mimetype
+truncate
+pspec
+setnativepath
+pfilename
+nsresult
+rv
+prbool
+isfile
+prfalse
+prbool
+exists
+prfalse
+nsfailed
+rv
+pspec
+exists
+exists
+rv
+nsfailed
+rv
+pspec
+isfile
+isfile
+rv
+exists
+isfile
+pleaf
+nsnull
+pspec
+getleafname
+pleaf
+pleaf
+nserrorfailure
+nscstring
+name
+pleaf
+nscrt
+free
+pleaf
+name
+length
+nscstring
+ext
+print
+idx
+name
+rfindchar
+idx
+name
+right
+ext
+name
+length
+idx
+getmimetypefromextension
+ext
+mimetype
+mimetype
+isempty
+mimetype
+application
+octet
+stream
+nsok
+nserrorfailure
+prbool
+nseudorawin
+findmimeinifile
+nsifilespec
+pspec
+nscomptr
+nsidirectoryiterator
+dir
+nsresult
+rv
+nsnewdirectoryiterator
+getteraddrefs
+dir
+nsfailed
+rv
+prfalse
+prbool
+exists
+prfalse
+rv
+dir
+init
+pspec
+prtrue
+nsfailed
+rv
+prfalse
+rv
+dir
+exists
+exists
+nsfailed
+rv
+prfalse
+prbool
+isfile
+nscomptr
+nsifilespec
+entry
+pname
+nscstring
+fname
+nscstring
+ext
+nscstring
+name
+prbool
+found
+prfalse
+exists
+nssucceeded
+rv
+rv
+dir
+getcurrentspec
+getteraddrefs
+entry
+nssucceeded
+rv
+rv
+entry
+getleafname
+pname
+nssucceeded
+rv
+pname
+fname
+pname
+nscrt
+free
+pname
+fname
+length
+fname
+right
+ext
+fname
+left
+name
+fname
+length
+ext
+truncate
+name
+fname
+tolowercase
+ext
+ext
+equals
+nsliteralcstring
+ini
+isfile
+prfalse
+entry
+isfile
+isfile
+isfile
+found
+pruint
+moddate
+moddate
+entry
+getmoddate
+moddate
+pspec
+getmoddate
+moddate
+moddate
+moddate
+pspec
+fromfilespec
+entry
+pspec
+fromfilespec
+entry
+found
+prtrue
+rv
+dir
+next
+nssucceeded
+rv
+rv
+dir
+exists
+exists
+found
+prtrue
+prfalse
+nseudorawin
+getmimetypefromextension
+nscstring
+ext
+nscstring
+mimetype
+hkey
+skey
+regopenkeyex
+hkeyclassesroot
+ext
+get
+keyqueryvalue
+skey
+errorsuccess
+byte
+pbytes
+getvaluebytes
+skey
+content
+type
+pbytes
+mimetype
+pbytes
+pbytes
+regclosekey
+skey
+mimetype
+isempty
+mmailimportlocation
+ext
+length
+mpmimesection
+nsifilespec
+pspec
+nsresult
+rv
+nsnewfilespec
+pspec
+nsfailed
+rv
+pspec
+pspec
+fromfilespec
+mmailimportlocation
+pspec
+appendrelativeunixpath
+eudora
+ini
+prbool
+exists
+prfalse
+prbool
+isfile
+prfalse
+rv
+pspec
+exists
+exists
+nssucceeded
+rv
+rv
+pspec
+isfile
+isfile
+isfile
+exists
+rv
+pspec
+fromfilespec
+mmailimportlocation
+nsfailed
+rv
+findmimeinifile
+pspec
+pname
+nsnull
+pspec
+getnativepath
+pname
+pname
+nscstring
+filename
+pname
+nscrt
+free
+pname
+dword
+size
+dword
+dsize
+size
+dsize
+size
+mpmimesection
+mpmimesection
+size
+mpmimesection
+size
+dsize
+getprivateprofilesection
+mappings
+mpmimesection
+size
+filename
+get
+mpmimesection
+importlog
+looking
+mime
+type
+extension
+ext
+get
+pext
+ext
+get
+pext
+pchar
+mpmimesection
+pstart
+len
+nscstring
+tstr
+pchar
+pchar
+pchar
+pchar
+pchar
+pchar
+pstart
+pchar
+len
+pchar
+pchar
+pchar
+len
+pchar
+tstr
+truncate
+tstr
+append
+pstart
+len
+tstr
+trim
+kwhitespace
+nscrt
+strcasecmp
+tstr
+get
+pext
+pchar
+pchar
+pchar
+pchar
+pchar
+pchar
+pchar
+pchar
+pchar
+pchar
+pchar
+len
+pstart
+pchar
+pchar
+pchar
+pchar
+len
+pchar
+pchar
+len
+tstr
+truncate
+tstr
+append
+pstart
+len
+tstr
+trim
+kwhitespace
+tstr
+isempty
+mimetype
+truncate
+mimetype
+append
+tstr
+get
+mimetype
+append
+pstart
+pchar
+len
+pchar
+pchar
+xd
+pchar
+xa
+pchar
+len
+len
+tstr
+truncate
+tstr
+append
+pstart
+len
+tstr
+trim
+kwhitespace
+tstr
+isempty
+mimetype
+append
+tstr
+get
+importlog
+found
+mime
+type
+mimetype
+get
+prbool
+nseudorawin
+findaddressfolder
+nsifilespec
+pfolder
+importlog
+looking
+eudora
+address
+folder
+findeudoralocation
+pfolder
+nsresult
+nseudorawin
+findaddressbooks
+nsifilespec
+proot
+nsisupportsarray
+pparray
+nscomptr
+nsifilespec
+spec
+nsresult
+rv
+nsnewfilespec
+getteraddrefs
+spec
+nsfailed
+rv
+rv
+rv
+spec
+fromfilespec
+proot
+nsfailed
+rv
+rv
+rv
+nsnewisupportsarray
+pparray
+nsfailed
+rv
+importlog
+failed
+to
+allocate
+the
+nsisupportsarray
+rv
+nscomptr
+nsiimportservice
+impsvc
+dogetservice
+nsimportservicecontractid
+rv
+nsfailed
+rv
+rv
+nsifrelease
+maddressimportfolder
+maddressimportfolder
+proot
+nsifaddref
+proot
+nsstring
+displayname
+nseudorastringbundle
+getstringbyid
+eudoraimportnicknamesname
+displayname
+rv
+spec
+appendrelativeunixpath
+nndbase
+txt
+prbool
+exists
+prfalse
+prbool
+isfile
+prfalse
+nssucceeded
+rv
+rv
+spec
+exists
+exists
+nssucceeded
+rv
+exists
+rv
+spec
+isfile
+isfile
+exists
+isfile
+nsfailed
+rv
+foundaddressbook
+spec
+displayname
+get
+pparray
+impsvc
+rv
+rv
+spec
+fromfilespec
+proot
+nsfailed
+rv
+rv
+rv
+spec
+appendrelativeunixpath
+nickname
+prbool
+isdir
+prfalse
+exists
+prfalse
+nssucceeded
+rv
+rv
+spec
+exists
+exists
+nssucceeded
+rv
+exists
+rv
+spec
+isdirectory
+isdir
+exists
+isdir
+nsfailed
+rv
+scanaddressdir
+spec
+pparray
+impsvc
+rv
+rv
+spec
+fromfilespec
+proot
+nssucceeded
+rv
+rv
+spec
+appendrelativeunixpath
+eudora
+ini
+exists
+prfalse
+isfile
+prfalse
+nssucceeded
+rv
+rv
+spec
+exists
+exists
+nssucceeded
+rv
+exists
+rv
+spec
+isfile
+isfile
+isfile
+exists
+rv
+spec
+fromfilespec
+proot
+nsfailed
+rv
+nsok
+findmimeinifile
+spec
+nsok
+pname
+nsnull
+spec
+getnativepath
+pname
+pname
+nsok
+nscstring
+filename
+pname
+nscrt
+free
+pname
+pbuffer
+dword
+len
+getprivateprofilestring
+settings
+extranicknamedirs
+pbuffer
+filename
+get
+len
+pbuffer
+nsok
+nscstring
+dirs
+pbuffer
+pbuffer
+dirs
+trim
+kwhitespace
+print
+idx
+nscstring
+currentdir
+idx
+dirs
+findchar
+dirs
+left
+currentdir
+idx
+currentdir
+trim
+kwhitespace
+currentdir
+isempty
+rv
+spec
+setnativepath
+currentdir
+get
+exists
+prfalse
+isdir
+prfalse
+nssucceeded
+rv
+rv
+spec
+exists
+exists
+nssucceeded
+rv
+exists
+rv
+spec
+isdirectory
+isdir
+exists
+isdir
+nsfailed
+rv
+scanaddressdir
+spec
+pparray
+impsvc
+rv
+dirs
+right
+currentdir
+dirs
+length
+idx
+dirs
+currentdir
+dirs
+trim
+kwhitespace
+dirs
+isempty
+rv
+spec
+setnativepath
+dirs
+get
+exists
+prfalse
+isdir
+prfalse
+nssucceeded
+rv
+rv
+spec
+exists
+exists
+nssucceeded
+rv
+exists
+rv
+spec
+isdirectory
+isdir
+exists
+isdir
+nsfailed
+rv
+scanaddressdir
+spec
+pparray
+impsvc
+rv
+nsok
+nsresult
+nseudorawin
+scanaddressdir
+nsifilespec
+pdir
+nsisupportsarray
+parray
+nsiimportservice
+impsvc
+nscomptr
+nsidirectoryiterator
+dir
+nsresult
+rv
+nsnewdirectoryiterator
+getteraddrefs
+dir
+nsfailed
+rv
+rv
+prbool
+exists
+prfalse
+rv
+dir
+init
+pdir
+prtrue
+nsfailed
+rv
+rv
+rv
+dir
+exists
+exists
+nsfailed
+rv
+rv
+prbool
+isfile
+nscomptr
+nsifilespec
+entry
+pname
+nscstring
+fname
+nscstring
+ext
+nscstring
+name
+exists
+nssucceeded
+rv
+rv
+dir
+getcurrentspec
+getteraddrefs
+entry
+nssucceeded
+rv
+rv
+entry
+getleafname
+pname
+nssucceeded
+rv
+pname
+fname
+pname
+nscrt
+free
+pname
+fname
+length
+fname
+right
+ext
+fname
+left
+name
+fname
+length
+ext
+truncate
+name
+fname
+tolowercase
+ext
+ext
+equals
+nsliteralcstring
+txt
+isfile
+prfalse
+entry
+isfile
+isfile
+isfile
+rv
+foundaddressbook
+entry
+nsnull
+parray
+impsvc
+nsfailed
+rv
+rv
+rv
+dir
+next
+nssucceeded
+rv
+rv
+dir
+exists
+exists
+rv
+nsresult
+nseudorawin
+foundaddressbook
+nsifilespec
+spec
+prunichar
+pname
+nsisupportsarray
+parray
+nsiimportservice
+impsvc
+nscomptr
+nsiimportabdescriptor
+desc
+nsisupports
+pinterface
+nsstring
+name
+nsresult
+rv
+pname
+name
+pname
+pleaf
+nsnull
+rv
+spec
+getleafname
+pleaf
+nsfailed
+rv
+rv
+pleaf
+nserrorfailure
+converttounicode
+pleaf
+name
+nscrt
+free
+pleaf
+nsstring
+tstr
+name
+right
+tstr
+tstr
+equals
+nsliteralstring
+txt
+nscaseinsensitivestringcomparator
+name
+left
+tstr
+name
+length
+name
+tstr
+rv
+impsvc
+createnewabdescriptor
+getteraddrefs
+desc
+nssucceeded
+rv
+pruint
+sz
+spec
+getfilesize
+sz
+desc
+setpreferredname
+name
+get
+desc
+setsize
+sz
+nsifilespec
+pspec
+nsnull
+desc
+getfilespec
+pspec
+pspec
+pspec
+fromfilespec
+spec
+nsrelease
+pspec
+rv
+desc
+queryinterface
+kisupportsiid
+pinterface
+parray
+appendelement
+pinterface
+pinterface
+release
+nsfailed
+rv
+importlog
+error
+creating
+address
+book
+descriptor
+eudora
+rv
+nsok
+nseudorawin
+convertpath
+nscstring
+str
+nscstring
+temp
+nscstring
+path
+print
+idx
+print
+start
+nscstring
+search
+idx
+str
+findchar
+idx
+idx
+str
+charat
+str
+left
+path
+idx
+idx
+str
+findchar
+idx
+start
+idx
+str
+length
+str
+right
+temp
+str
+length
+start
+path
+append
+temp
+winfinddata
+findfiledata
+idx
+str
+mid
+temp
+start
+idx
+start
+search
+path
+search
+append
+temp
+handle
+findfirstfile
+search
+get
+findfiledata
+invalidhandlevalue
+path
+append
+findfiledata
+cfilename
+idx
+start
+idx
+idx
+str
+findchar
+idx
+findclose
+idx
+path
+append
+str
+right
+temp
+str
+length
+start
+path
+append
+path
+append
+temp
+str
+path
\ No newline at end of file
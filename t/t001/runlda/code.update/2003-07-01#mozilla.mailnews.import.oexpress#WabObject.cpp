@@ -0,0 +1,698 @@
+nscore
+nscrt
+wabobject
+ieidprdisplayname
+ieidprentryid
+ieidprobjecttype
+ieidmax
+sizedsproptagarray
+ieidmax
+ptaeid
+ieidmax
+prdisplayname
+prentryid
+probjecttype
+iemailprdisplayname
+iemailprentryid
+iemailpremailaddress
+iemailprobjecttype
+iemailmax
+sizedsproptagarray
+iemailmax
+ptaemail
+iemailmax
+prdisplayname
+prentryid
+premailaddress
+probjecttype
+prbool
+multiline
+ulong
+tag
+pldif
+addrimportfield
+define
+kextrauserfields
+addrimportfield
+extrauserfields
+kextrauserfields
+prtrue
+prcomment
+description
+prfalse
+prbusinesstelephonenumber
+telephonenumber
+prfalse
+prhometelephonenumber
+homephone
+prfalse
+prcompanyname
+prfalse
+prtitle
+title
+prfalse
+prbusinessfaxnumber
+facsimiletelephonenumber
+prfalse
+prlocality
+locality
+prfalse
+prstateorprovince
+st
+prtrue
+prstreetaddress
+streetaddress
+prfalse
+prpostalcode
+postalcode
+define
+kwhitespace
+define
+troutputeol
+define
+kldifperson
+objectclass
+top
+troutputeol
+objectclass
+person
+troutputeol
+define
+kldifgroup
+objectclass
+top
+troutputeol
+objectclass
+groupofnames
+troutputeol
+cwab
+cwab
+nsifilespec
+file
+mpunibuff
+munibufflen
+mbinitialized
+prfalse
+mlpadrbook
+mlpwabobject
+mhinstwab
+tchar
+szwabdllpath
+maxpath
+dword
+dwtype
+ulong
+cbdata
+szwabdllpath
+hkey
+hkey
+szwabdllpath
+errorsuccess
+regopenkeyex
+hkeylocalmachine
+wabdllpathkey
+keyread
+hkey
+regqueryvalueex
+hkey
+dwtype
+lpbyte
+szwabdllpath
+cbdata
+hkey
+regclosekey
+hkey
+mhinstwab
+loadlibrary
+lstrlen
+szwabdllpath
+szwabdllpath
+wabdllname
+mhinstwab
+mlpfnwabopen
+lpwabopen
+getprocaddress
+mhinstwab
+wabopen
+mlpfnwabopen
+fname
+ppath
+nsnull
+hresult
+hr
+efail
+wabparam
+wp
+wp
+cbsize
+wabparam
+file
+nsnull
+file
+getnativepath
+ppath
+wp
+szfilename
+lptstr
+ppath
+wp
+szfilename
+lptstr
+fname
+hr
+mlpfnwabopen
+mlpadrbook
+mlpwabobject
+wp
+hr
+mbinitialized
+true
+ppath
+nscrt
+free
+ppath
+cwab
+cwab
+mpunibuff
+mpunibuff
+mbinitialized
+mlpadrbook
+mlpadrbook
+release
+mlpwabobject
+mlpwabobject
+release
+mhinstwab
+freelibrary
+mhinstwab
+hresult
+cwab
+iteratewabcontents
+cwabiterator
+piter
+pdone
+mbinitialized
+mlpadrbook
+efail
+ulong
+ulobjtype
+lpmapitable
+lpab
+ulong
+crows
+lpsrowset
+lprowab
+lpabcont
+lpcontainer
+cnumrows
+nsresult
+keepgoing
+hresult
+hr
+efail
+ulong
+lpcbeid
+lpentryid
+lpeid
+ulong
+rowcount
+ulong
+curcount
+nsstring
+unistr
+hr
+mlpadrbook
+getpab
+lpcbeid
+lpeid
+hrfailed
+hr
+exit
+ulobjtype
+hr
+mlpadrbook
+openentry
+lpcbeid
+lpentryid
+lpeid
+ulobjtype
+lpunknown
+lpcontainer
+mlpwabobject
+freebuffer
+lpeid
+lpeid
+hrfailed
+hr
+exit
+hr
+lpcontainer
+getcontentstable
+lpab
+hrfailed
+hr
+exit
+hr
+lpab
+getrowcount
+rowcount
+hrfailed
+hr
+rowcount
+rowcount
+rowcount
+hr
+lpab
+setcolumns
+lpsproptagarray
+ptaeid
+hrfailed
+hr
+exit
+hr
+lpab
+seekrow
+bookmarkbeginning
+hrfailed
+hr
+exit
+hr
+lpab
+queryrows
+lprowab
+hrfailed
+hr
+lprowab
+cnumrows
+lprowab
+crows
+cnumrows
+lptstr
+lpsz
+lprowab
+arow
+lpprops
+ieidprdisplayname
+value
+lpsza
+lpentryid
+lpeid
+lpentryid
+lprowab
+arow
+lpprops
+ieidprentryid
+value
+bin
+lpb
+ulong
+cbeid
+lprowab
+arow
+lpprops
+ieidprentryid
+value
+bin
+cb
+lprowab
+arow
+lpprops
+ieidprobjecttype
+value
+mapimailuser
+cstrtounicode
+lpsz
+unistr
+keepgoing
+piter
+enumuser
+unistr
+get
+lpeid
+cbeid
+curcount
+pdone
+pdone
+curcount
+rowcount
+pdone
+pdone
+freeprows
+lprowab
+succeeded
+hr
+cnumrows
+lprowab
+nssucceeded
+keepgoing
+hr
+lpab
+seekrow
+bookmarkbeginning
+hrfailed
+hr
+exit
+keepgoing
+true
+hr
+lpab
+queryrows
+lprowab
+hrfailed
+hr
+lprowab
+cnumrows
+lprowab
+crows
+cnumrows
+lptstr
+lpsz
+lprowab
+arow
+lpprops
+ieidprdisplayname
+value
+lpsza
+lpentryid
+lpeid
+lpentryid
+lprowab
+arow
+lpprops
+ieidprentryid
+value
+bin
+lpb
+ulong
+cbeid
+lprowab
+arow
+lpprops
+ieidprentryid
+value
+bin
+cb
+lprowab
+arow
+lpprops
+ieidprobjecttype
+value
+mapidistlist
+cstrtounicode
+lpsz
+unistr
+keepgoing
+piter
+enumlist
+unistr
+get
+lpeid
+cbeid
+curcount
+pdone
+pdone
+curcount
+rowcount
+pdone
+pdone
+freeprows
+lprowab
+succeeded
+hr
+cnumrows
+lprowab
+nssucceeded
+keepgoing
+exit
+lpcontainer
+lpcontainer
+release
+lpab
+lpab
+release
+hr
+cwab
+freeprows
+lpsrowset
+prows
+ulong
+irow
+prows
+irow
+irow
+prows
+crows
+irow
+mlpwabobject
+freebuffer
+prows
+arow
+irow
+lpprops
+mlpwabobject
+freebuffer
+prows
+lpdistlist
+cwab
+getdistlist
+ulong
+cbeid
+lpentryid
+peid
+mbinitialized
+mlpadrbook
+lpdistlist
+lpdistlist
+ulong
+ulobjtype
+mlpadrbook
+openentry
+cbeid
+peid
+ulobjtype
+lpunknown
+lpdistlist
+lpdistlist
+lpspropvalue
+cwab
+getlistproperty
+lpdistlist
+puser
+ulong
+tag
+puser
+sz
+cbnewsproptagarray
+sproptagarray
+ptag
+sproptagarray
+sz
+ptag
+cvalues
+ptag
+aulproptag
+tag
+lpspropvalue
+lpprop
+ulong
+cvalues
+hresult
+hr
+puser
+getprops
+ptag
+cvalues
+lpprop
+ptag
+hrfailed
+hr
+cvalues
+lpprop
+mlpwabobject
+freebuffer
+lpprop
+lpprop
+lpmailuser
+cwab
+getuser
+ulong
+cbeid
+lpentryid
+peid
+mbinitialized
+mlpadrbook
+lpmailuser
+lpmailuser
+ulong
+ulobjtype
+mlpadrbook
+openentry
+cbeid
+peid
+ulobjtype
+lpunknown
+lpmailuser
+lpmailuser
+lpspropvalue
+cwab
+getuserproperty
+lpmailuser
+puser
+ulong
+tag
+puser
+ulong
+utag
+tag
+sz
+cbnewsproptagarray
+sproptagarray
+ptag
+sproptagarray
+sz
+ptag
+cvalues
+ptag
+aulproptag
+utag
+lpspropvalue
+lpprop
+ulong
+cvalues
+hresult
+hr
+puser
+getprops
+ptag
+cvalues
+lpprop
+hrfailed
+hr
+cvalues
+lpprop
+mlpwabobject
+freebuffer
+lpprop
+lpprop
+utag
+tag
+ptag
+cvalues
+ptag
+aulproptag
+tag
+cvalues
+hr
+puser
+getprops
+ptag
+cvalues
+lpprop
+hrfailed
+hr
+cvalues
+lpprop
+mlpwabobject
+freebuffer
+lpprop
+lpprop
+ptag
+lpprop
+cwab
+cstrtounicode
+pstr
+nsstring
+result
+result
+truncate
+wlen
+multibytetowidechar
+cpacp
+pstr
+mpunibuff
+wlen
+munibufflen
+mpunibuff
+mpunibuff
+mpunibuff
+prunichar
+wlen
+munibufflen
+wlen
+wlen
+multibytetowidechar
+cpacp
+pstr
+mpunibuff
+munibufflen
+result
+mpunibuff
+cwab
+getvaluestring
+lpspropvalue
+pval
+nsstring
+val
+val
+truncate
+pval
+proptype
+pval
+ulproptag
+ptstring
+cstrtounicode
+pval
+value
+lpsza
+val
+ptunicode
+val
+prunichar
+pval
+value
+lpszw
+ptmvstring
+nsstring
+tmp
+ulong
+pval
+value
+mvsza
+cvalues
+cstrtounicode
+pval
+value
+mvsza
+lppsza
+tmp
+val
+tmp
+val
+appendwithconversion
+troutputeol
+ptmvunicode
+ulong
+pval
+value
+mvszw
+cvalues
+val
+prunichar
+pval
+value
+mvszw
+lppszw
+val
+appendwithconversion
+troutputeol
+pti
+ptlong
+ptr
+ptdouble
+ptboolean
+ptbinary
+val
+trim
+kwhitespace
+prtrue
+prtrue nsresult
\ No newline at end of file
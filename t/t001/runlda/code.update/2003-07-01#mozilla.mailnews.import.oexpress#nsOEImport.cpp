@@ -0,0 +1,1146 @@
+ifdef
+mozlogging
+define
+forceprlog
+endif
+nscore
+nscrt
+nsstring
+nsreadableutils
+nsiservicemanager
+nsiimportservice
+nsoeimport
+nsimemory
+nsoescanboxes
+nsiimportservice
+nsiimportmail
+nsiimportmailboxdescriptor
+nsiimportgeneric
+nsoemailbox
+nsiimportaddressbooks
+nsiimportabdescriptor
+nsiimportfieldmap
+nsxpcom
+nsisupportsprimitives
+wabobject
+nsoeaddressiterator
+nsioutputstream
+nsoefile
+nsiaddrdatabase
+nsoesettings
+nstextformatter
+nsoestringbundle
+nsistringbundle
+oedebuglog
+nsdefineiid
+kisupportsiid
+nsisupportsiid
+prlogmoduleinfo
+oelogmodule
+nsnull
+importoemailimpl
+nsiimportmail
+importoemailimpl
+importoemailimpl
+nsresult
+create
+nsiimportmail
+aimport
+nsdeclisupports
+nsimethod
+getdefaultlocation
+nsifilespec
+location
+prbool
+found
+prbool
+userverify
+nsimethod
+findmailboxes
+nsifilespec
+location
+nsisupportsarray
+retval
+nsimethod
+importmailbox
+nsiimportmailboxdescriptor
+source
+nsifilespec
+destination
+prunichar
+perrorlog
+prunichar
+psuccesslog
+prbool
+fatalerror
+nsimethod
+getimportprogress
+pruint
+retval
+reportsuccess
+nsstring
+name
+print
+count
+nsstring
+pstream
+reporterror
+print
+errornum
+nsstring
+name
+nsstring
+pstream
+addlinebreak
+nsstring
+pstream
+setlogs
+nsstring
+success
+nsstring
+error
+prunichar
+perror
+prunichar
+psuccess
+pruint
+mbytesdone
+importoeaddressimpl
+nsiimportaddressbooks
+importoeaddressimpl
+importoeaddressimpl
+nsresult
+create
+nsiimportaddressbooks
+aimport
+nsdeclisupports
+nsimethod
+getsupportsmultiple
+prbool
+retval
+retval
+prfalse
+nsok
+nsimethod
+getautofind
+prunichar
+description
+prbool
+retval
+nsimethod
+getneedsfieldmap
+nsifilespec
+ploc
+prbool
+retval
+retval
+prfalse
+nsok
+nsimethod
+getdefaultlocation
+nsifilespec
+location
+prbool
+found
+prbool
+userverify
+nserrorfailure
+nsimethod
+findaddressbooks
+nsifilespec
+location
+nsisupportsarray
+retval
+nsimethod
+initfieldmap
+nsifilespec
+location
+nsiimportfieldmap
+fieldmap
+nserrorfailure
+nsimethod
+importaddressbook
+nsiimportabdescriptor
+source
+nsiaddrdatabase
+destination
+nsiimportfieldmap
+fieldmap
+prbool
+isaddrlochome
+prunichar
+errorlog
+prunichar
+successlog
+prbool
+fatalerror
+nsimethod
+getimportprogress
+pruint
+retval
+nsimethod
+getsampledata
+print
+index
+prbool
+pfound
+prunichar
+pstr
+nserrorfailure
+nsimethod
+setsamplelocation
+nsifilespec
+nsok
+reportsuccess
+nsstring
+name
+nsstring
+pstream
+cwab
+mpwab
+mdonesofar
+nsoeimport
+nsoeimport
+oelogmodule
+oelogmodule
+prnewlogmodule
+import
+importlog
+nsoeimport
+module
+created
+nsoestringbundle
+getstringbundle
+nsoeimport
+nsoeimport
+importlog
+nsoeimport
+module
+deleted
+nsimplisupports
+nsoeimport
+nsiimportmodule
+nsimethodimp
+nsoeimport
+getname
+prunichar
+name
+nsprecondition
+name
+nsnull
+ptr
+name
+nserrornullpointer
+name
+nsoestringbundle
+getstringbyid
+oeimportname
+nsok
+nsimethodimp
+nsoeimport
+getdescription
+prunichar
+name
+nsprecondition
+name
+nsnull
+ptr
+name
+nserrornullpointer
+name
+nsoestringbundle
+getstringbyid
+oeimportdescription
+nsok
+nsimethodimp
+nsoeimport
+getsupports
+supports
+nsprecondition
+supports
+nsnull
+ptr
+supports
+nserrornullpointer
+supports
+nscrt
+strdup
+koesupportsstring
+nsok
+nsimethodimp
+nsoeimport
+getsupportsupgrade
+prbool
+pupgrade
+nsprecondition
+pupgrade
+nsnull
+ptr
+pupgrade
+nserrornullpointer
+pupgrade
+prtrue
+nsok
+nsimethodimp
+nsoeimport
+getimportinterface
+pimporttype
+nsisupports
+ppinterface
+nsprecondition
+pimporttype
+nsnull
+ptr
+pimporttype
+nserrornullpointer
+nsprecondition
+ppinterface
+nsnull
+ptr
+ppinterface
+nserrornullpointer
+ppinterface
+nsnull
+nsresult
+rv
+nscrt
+strcmp
+pimporttype
+mail
+nsiimportmail
+pmail
+nsnull
+nsiimportgeneric
+pgeneric
+nsnull
+rv
+importoemailimpl
+create
+pmail
+nssucceeded
+rv
+nscomptr
+nsiimportservice
+impsvc
+dogetservice
+nsimportservicecontractid
+rv
+nssucceeded
+rv
+rv
+impsvc
+createnewgenericmail
+pgeneric
+nssucceeded
+rv
+pgeneric
+setdata
+mailinterface
+pmail
+nsstring
+name
+nsoestringbundle
+getstringbyid
+oeimportname
+name
+nscomptr
+nsisupportsstring
+namestring
+docreateinstance
+nssupportsstringcontractid
+rv
+nssucceeded
+rv
+namestring
+setdata
+name
+pgeneric
+setdata
+name
+namestring
+rv
+pgeneric
+queryinterface
+kisupportsiid
+ppinterface
+nsifrelease
+pmail
+nsifrelease
+pgeneric
+rv
+nscrt
+strcmp
+pimporttype
+addressbook
+nsiimportaddressbooks
+paddress
+nsnull
+nsiimportgeneric
+pgeneric
+nsnull
+rv
+importoeaddressimpl
+create
+paddress
+nssucceeded
+rv
+nscomptr
+nsiimportservice
+impsvc
+dogetservice
+nsimportservicecontractid
+rv
+nssucceeded
+rv
+rv
+impsvc
+createnewgenericaddressbooks
+pgeneric
+nssucceeded
+rv
+pgeneric
+setdata
+addressinterface
+paddress
+rv
+pgeneric
+queryinterface
+kisupportsiid
+ppinterface
+nsifrelease
+paddress
+nsifrelease
+pgeneric
+rv
+nscrt
+strcmp
+pimporttype
+settings
+nsiimportsettings
+psettings
+nsnull
+rv
+nsoesettings
+create
+psettings
+nssucceeded
+rv
+psettings
+queryinterface
+kisupportsiid
+ppinterface
+nsifrelease
+psettings
+rv
+nserrornotavailable
+nsresult
+importoemailimpl
+create
+nsiimportmail
+aimport
+nsprecondition
+aimport
+nsnull
+ptr
+aimport
+nserrornullpointer
+aimport
+importoemailimpl
+aimport
+nserroroutofmemory
+nsaddref
+aimport
+nsok
+importoemailimpl
+importoemailimpl
+importoemailimpl
+importoemailimpl
+nsimplthreadsafeisupports
+importoemailimpl
+nsiimportmail
+nsimethodimp
+importoemailimpl
+getdefaultlocation
+nsifilespec
+pploc
+prbool
+found
+prbool
+userverify
+nsprecondition
+pploc
+nsnull
+ptr
+nsprecondition
+found
+nsnull
+ptr
+nsprecondition
+userverify
+nsnull
+ptr
+pploc
+found
+userverify
+nserrornullpointer
+nsresult
+rv
+nsifilespec
+spec
+nsfailed
+rv
+nsnewfilespec
+spec
+rv
+nsoescanboxes
+findmail
+spec
+found
+prtrue
+pploc
+spec
+found
+prfalse
+pploc
+nsnull
+spec
+release
+userverify
+prtrue
+nsok
+nsimethodimp
+importoemailimpl
+findmailboxes
+nsifilespec
+ploc
+nsisupportsarray
+pparray
+nsprecondition
+ploc
+nsnull
+ptr
+nsprecondition
+pparray
+nsnull
+ptr
+ploc
+pparray
+nserrornullpointer
+prbool
+exists
+prfalse
+nsresult
+rv
+ploc
+exists
+exists
+nsfailed
+rv
+exists
+nserrorfailure
+nsoescanboxes
+scan
+scan
+getmailboxes
+ploc
+pparray
+pparray
+nsnull
+nsok
+importoemailimpl
+addlinebreak
+nsstring
+pstream
+pstream
+pstream
+append
+prunichar
+nscrt
+lf
+importoemailimpl
+reportsuccess
+nsstring
+name
+print
+count
+nsstring
+pstream
+pstream
+nsistringbundle
+pbundle
+nsoestringbundle
+getstringbundleproxy
+prunichar
+pfmt
+nsoestringbundle
+getstringbyid
+oeimportmailboxsuccess
+pbundle
+prunichar
+ptext
+nstextformatter
+smprintf
+pfmt
+name
+get
+count
+pstream
+append
+ptext
+nstextformatter
+smprintffree
+ptext
+nsoestringbundle
+freestring
+pfmt
+addlinebreak
+pstream
+nsifrelease
+pbundle
+importoemailimpl
+reporterror
+print
+errornum
+nsstring
+name
+nsstring
+pstream
+pstream
+nsistringbundle
+pbundle
+nsoestringbundle
+getstringbundleproxy
+prunichar
+pfmt
+nsoestringbundle
+getstringbyid
+errornum
+pbundle
+prunichar
+ptext
+nstextformatter
+smprintf
+pfmt
+name
+get
+pstream
+append
+ptext
+nstextformatter
+smprintffree
+ptext
+nsoestringbundle
+freestring
+pfmt
+addlinebreak
+pstream
+nsifrelease
+pbundle
+importoemailimpl
+setlogs
+nsstring
+success
+nsstring
+error
+prunichar
+perror
+prunichar
+psuccess
+perror
+perror
+tonewunicode
+error
+psuccess
+psuccess
+tonewunicode
+success
+nsimethodimp
+importoemailimpl
+importmailbox
+nsiimportmailboxdescriptor
+psource
+nsifilespec
+pdestination
+prunichar
+perrorlog
+prunichar
+psuccesslog
+prbool
+fatalerror
+nsprecondition
+psource
+nsnull
+ptr
+nsprecondition
+pdestination
+nsnull
+ptr
+nsprecondition
+fatalerror
+nsnull
+ptr
+nscomptr
+nsistringbundle
+bundle
+dontaddref
+nsoestringbundle
+getstringbundleproxy
+nsstring
+success
+nsstring
+error
+psource
+pdestination
+fatalerror
+nsoestringbundle
+getstringbyid
+oeimportmailboxbadparam
+error
+bundle
+fatalerror
+fatalerror
+prtrue
+setlogs
+success
+error
+perrorlog
+psuccesslog
+nserrornullpointer
+prbool
+abort
+prfalse
+nsstring
+name
+nsxpidlstring
+pname
+nssucceeded
+psource
+getdisplayname
+gettercopies
+pname
+name
+pname
+pruint
+mailsize
+psource
+getsize
+mailsize
+mailsize
+reportsuccess
+name
+success
+setlogs
+success
+error
+perrorlog
+psuccesslog
+nsok
+nsifilespec
+infile
+nsfailed
+psource
+getfilespec
+infile
+reporterror
+oeimportmailboxbadsourcefile
+name
+error
+setlogs
+success
+error
+perrorlog
+psuccesslog
+nserrorfailure
+nsxpidlcstring
+ppath
+infile
+getnativepath
+gettercopies
+ppath
+importlog
+importing
+outlook
+express
+mailbox
+ppath
+get
+mbytesdone
+pruint
+msgcount
+nsresult
+rv
+nsoefile
+islocalmailfile
+infile
+importlog
+importing
+oe
+mailbox
+name
+get
+rv
+nsoefile
+importmailbox
+mbytesdone
+abort
+name
+infile
+pdestination
+msgcount
+cimportmailbox
+importmailbox
+mbytesdone
+abort
+name
+infile
+pdestination
+msgcount
+rv
+nsok
+rv
+nserrorfailure
+infile
+release
+nssucceeded
+rv
+reportsuccess
+name
+msgcount
+success
+reporterror
+oeimportmailboxconverterror
+name
+error
+setlogs
+success
+error
+perrorlog
+psuccesslog
+rv
+nsimethodimp
+importoemailimpl
+getimportprogress
+pruint
+pdonesofar
+nsprecondition
+pdonesofar
+nsnull
+ptr
+pdonesofar
+nserrornullpointer
+pdonesofar
+mbytesdone
+nsok
+nsresult
+importoeaddressimpl
+create
+nsiimportaddressbooks
+aimport
+nsprecondition
+aimport
+nsnull
+ptr
+aimport
+nserrornullpointer
+aimport
+importoeaddressimpl
+aimport
+nserroroutofmemory
+nsaddref
+aimport
+nsok
+importoeaddressimpl
+importoeaddressimpl
+mpwab
+nsnull
+importoeaddressimpl
+importoeaddressimpl
+mpwab
+mpwab
+nsimplthreadsafeisupports
+importoeaddressimpl
+nsiimportaddressbooks
+nsimethodimp
+importoeaddressimpl
+getautofind
+prunichar
+description
+prbool
+retval
+nsprecondition
+description
+nsnull
+ptr
+nsprecondition
+retval
+nsnull
+ptr
+description
+retval
+nserrornullpointer
+retval
+prtrue
+nsstring
+str
+str
+append
+nsoestringbundle
+getstringbyid
+oeimportautofind
+description
+tonewunicode
+str
+nsok
+nsimethodimp
+importoeaddressimpl
+findaddressbooks
+nsifilespec
+location
+nsisupportsarray
+retval
+nsprecondition
+retval
+nsnull
+ptr
+retval
+nserrornullpointer
+nsresult
+rv
+nsnewisupportsarray
+retval
+nsfailed
+rv
+rv
+rv
+nserrorfailure
+mpwab
+mpwab
+mpwab
+cwab
+nsnull
+nsiimportabdescriptor
+pid
+nsisupports
+pinterface
+nsstring
+str
+str
+append
+nsoestringbundle
+getstringbyid
+oeimportdefaultname
+mpwab
+loaded
+nscomptr
+nsiimportservice
+impsvc
+dogetservice
+nsimportservicecontractid
+rv
+nssucceeded
+rv
+rv
+impsvc
+createnewabdescriptor
+pid
+nssucceeded
+rv
+pid
+setidentifier
+xf
+pid
+setref
+pid
+setsize
+pid
+setpreferredname
+str
+get
+rv
+pid
+queryinterface
+kisupportsiid
+pinterface
+retval
+appendelement
+pinterface
+pinterface
+release
+pid
+release
+nsfailed
+rv
+mpwab
+mpwab
+nsnull
+nsok
+nsimethodimp
+importoeaddressimpl
+importaddressbook
+nsiimportabdescriptor
+source
+nsiaddrdatabase
+destination
+nsiimportfieldmap
+fieldmap
+prbool
+isaddrlochome
+prunichar
+errorlog
+prunichar
+successlog
+prbool
+fatalerror
+nsprecondition
+source
+nsnull
+ptr
+nsprecondition
+fatalerror
+nsnull
+ptr
+source
+fatalerror
+nserrornullpointer
+mpwab
+importlog
+wab
+loaded
+in
+importaddressbook
+call
+nserrorfailure
+importlog
+importing
+outlook
+express
+address
+book
+nscomptr
+nsistringbundle
+bundle
+dontaddref
+nsoestringbundle
+getstringbundleproxy
+nsstring
+success
+nsstring
+error
+source
+destination
+fatalerror
+nsoestringbundle
+getstringbyid
+oeimportaddressbadparam
+error
+bundle
+fatalerror
+fatalerror
+prtrue
+importoemailimpl
+setlogs
+success
+error
+errorlog
+successlog
+nserrornullpointer
+mdonesofar
+nsoeaddressiterator
+piter
+nsoeaddressiterator
+mpwab
+destination
+hresult
+hr
+mpwab
+iteratewabcontents
+piter
+mdonesofar
+piter
+nsstring
+name
+succeeded
+hr
+nsxpidlstring
+pname
+nssucceeded
+source
+getpreferredname
+gettercopies
+pname
+name
+pname
+reportsuccess
+name
+success
+importoemailimpl
+reporterror
+oeimportaddressconverterror
+name
+error
+importoemailimpl
+setlogs
+success
+error
+errorlog
+successlog
+nsresult
+rv
+destination
+commit
+nsaddrdbcommittype
+klargecommit
+rv
+nsimethodimp
+importoeaddressimpl
+getimportprogress
+pruint
+retval
+nsprecondition
+retval
+nsnull
+ptr
+retval
+nserrornullpointer
+retval
+pruint
+mdonesofar
+nsok
+importoeaddressimpl
+reportsuccess
+nsstring
+name
+nsstring
+pstream
+pstream
+nsistringbundle
+pbundle
+nsoestringbundle
+getstringbundleproxy
+prunichar
+pfmt
+nsoestringbundle
+getstringbyid
+oeimportaddresssuccess
+pbundle
+prunichar
+ptext
+nstextformatter
+smprintf
+pfmt
+name
+get
+pstream
+append
+ptext
+nstextformatter
+smprintffree
+ptext
+nsoestringbundle
+freestring
+pfmt
+importoemailimpl
+addlinebreak
+pstream
+nsifrelease
+pbundle nsresult
\ No newline at end of file
@@ -0,0 +1,1055 @@
+nsoemailbox
+oedebuglog
+cmbxscanner
+cmbxscanner
+nsstring
+name
+nsifilespec
+mbxfile
+nsifilespec
+dstfile
+cmbxscanner
+prbool
+initialize
+prbool
+dowork
+prbool
+pabort
+pruint
+pdone
+pruint
+pcount
+prbool
+waserrorfatal
+mfatalerror
+pruint
+bytesprocessed
+mdidbytes
+prbool
+writemailitem
+pruint
+flags
+pruint
+offset
+pruint
+size
+pruint
+ptotalmsgsize
+nsnull
+cleanup
+reportwriteerror
+nsifilespec
+file
+prbool
+fatal
+prtrue
+reportreaderror
+nsifilespec
+file
+prbool
+fatal
+prtrue
+prbool
+copymbxfilebytes
+pruint
+numbytes
+prbool
+isfromlinekey
+pruint
+pbuf
+pruint
+max
+pruint
+mmsgcount
+pruint
+mpdone
+nsstring
+mname
+nsifilespec
+mmbxfile
+nsifilespec
+mdstfile
+pruint
+mpinbuffer
+pruint
+mpoutbuffer
+pruint
+mbufsz
+pruint
+mdidbytes
+prbool
+mfatalerror
+pruint
+mmbxfilesize
+pruint
+mmbxoffset
+mpfromline
+cindexscanner
+cmbxscanner
+cindexscanner
+nsstring
+name
+nsifilespec
+idxfile
+nsifilespec
+mbxfile
+nsifilespec
+dstfile
+cindexscanner
+prbool
+initialize
+prbool
+dowork
+prbool
+pabort
+pruint
+pdone
+pruint
+pcount
+cleanup
+prbool
+validateidxfile
+prbool
+getmailitem
+pruint
+pflags
+pruint
+poffset
+pruint
+psize
+nsifilespec
+midxfile
+pruint
+mnummessages
+pruint
+midxoffset
+pruint
+mcuritemindex
+prbool
+cimportmailbox
+importmailbox
+pruint
+pdone
+prbool
+pabort
+nsstring
+name
+nsifilespec
+infile
+nsifilespec
+outfile
+pruint
+pcount
+prbool
+done
+prfalse
+nsifilespec
+idxfile
+nsfailed
+nsnewfilespec
+idxfile
+importlog
+new
+file
+spec
+failed
+prfalse
+idxfile
+fromfilespec
+infile
+getindexfile
+idxfile
+importlog
+using
+index
+file
+name
+get
+cindexscanner
+pidxscanner
+cindexscanner
+name
+idxfile
+infile
+outfile
+pidxscanner
+initialize
+pidxscanner
+dowork
+pabort
+pdone
+pcount
+done
+prtrue
+importlog
+cindexscanner
+dowork
+failed
+importlog
+cindexscanner
+initialize
+failed
+pidxscanner
+idxfile
+release
+done
+done
+cmbxscanner
+pmbx
+cmbxscanner
+name
+infile
+outfile
+pmbx
+initialize
+pmbx
+dowork
+pabort
+pdone
+pcount
+done
+prtrue
+importlog
+cmbxscanner
+dowork
+failed
+importlog
+cmbxscanner
+initialize
+failed
+pmbx
+done
+prbool
+cimportmailbox
+getindexfile
+nsifilespec
+file
+pleaf
+nsnull
+nsfailed
+file
+getleafname
+pleaf
+prfalse
+print
+len
+strlen
+pleaf
+len
+nscrt
+free
+pleaf
+prfalse
+pleaf
+len
+pleaf
+len
+pleaf
+len
+importlog
+looking
+index
+leaf
+name
+pleaf
+nsresult
+rv
+rv
+file
+setleafname
+pleaf
+nscrt
+free
+pleaf
+prbool
+isfile
+prfalse
+prbool
+exists
+prfalse
+nssucceeded
+rv
+rv
+file
+isfile
+isfile
+nssucceeded
+rv
+rv
+file
+exists
+exists
+isfile
+exists
+prtrue
+prfalse
+cmbxscanner
+mpfromline
+from
+mon
+jan
+xd
+xa
+define
+kbufferkb
+cmbxscanner
+cmbxscanner
+nsstring
+name
+nsifilespec
+mbxfile
+nsifilespec
+dstfile
+mmsgcount
+mname
+name
+mmbxfile
+mbxfile
+mmbxfile
+addref
+mdstfile
+dstfile
+mdstfile
+addref
+mpinbuffer
+nsnull
+mpoutbuffer
+nsnull
+mbufsz
+mfatalerror
+prfalse
+mdidbytes
+mmbxfilesize
+mmbxoffset
+cmbxscanner
+cmbxscanner
+cleanup
+mmbxfile
+mmbxfile
+release
+mdstfile
+mdstfile
+release
+cmbxscanner
+reportwriteerror
+nsifilespec
+file
+prbool
+fatal
+mfatalerror
+fatal
+cmbxscanner
+reportreaderror
+nsifilespec
+file
+prbool
+fatal
+mfatalerror
+fatal
+prbool
+cmbxscanner
+initialize
+mbufsz
+kbufferkb
+mpinbuffer
+pruint
+mbufsz
+mpoutbuffer
+pruint
+mbufsz
+mpinbuffer
+mpoutbuffer
+prfalse
+mmbxfile
+getfilesize
+mmbxfilesize
+nsfailed
+mmbxfile
+openstreamforreading
+cleanup
+prfalse
+nsfailed
+mdstfile
+openstreamforwriting
+cleanup
+prfalse
+prtrue
+define
+kmbxheadersize
+define
+kmbxmessageheadersz
+prbool
+cmbxscanner
+dowork
+prbool
+pabort
+pruint
+pdone
+pruint
+pcount
+mmbxoffset
+kmbxheadersize
+mdidbytes
+kmbxheadersize
+pabort
+mmbxoffset
+kmbxmessageheadersz
+mmbxfilesize
+pruint
+msgsz
+writemailitem
+mmbxoffset
+msgsz
+waserrorfatal
+reportreaderror
+mmbxfile
+prfalse
+mmbxoffset
+msgsz
+mdidbytes
+msgsz
+mmsgcount
+pdone
+pdone
+mdidbytes
+pcount
+pcount
+mmsgcount
+cleanup
+prtrue
+cmbxscanner
+cleanup
+mmbxfile
+closestream
+mdstfile
+closestream
+mpinbuffer
+nsnull
+mpinbuffer
+mpinbuffer
+nsnull
+mpoutbuffer
+nsnull
+mpoutbuffer
+mpoutbuffer
+nsnull
+define
+knummbxlongstoread
+prbool
+cmbxscanner
+writemailitem
+pruint
+flags
+pruint
+offset
+pruint
+size
+pruint
+ptotalmsgsize
+pruint
+values
+knummbxlongstoread
+print
+cnt
+knummbxlongstoread
+pruint
+nsresult
+rv
+prbool
+failed
+prfalse
+print
+cntread
+print
+pchar
+print
+values
+rv
+mmbxfile
+seek
+offset
+mmbxfile
+failed
+failed
+nsfailed
+rv
+failed
+importlog
+mbx
+seek
+error
+lx
+offset
+prfalse
+rv
+mmbxfile
+read
+pchar
+cnt
+cntread
+nsfailed
+rv
+cntread
+cnt
+importlog
+mbx
+read
+error
+at
+lx
+offset
+prfalse
+values
+xff
+importlog
+mbx
+tag
+field
+doesn
+match
+lx
+at
+offset
+lx
+values
+offset
+prfalse
+size
+values
+size
+importlog
+mbx
+size
+doesn
+match
+idx
+mbx
+ld
+idx
+ld
+at
+offset
+lx
+values
+size
+offset
+prfalse
+ptotalmsgsize
+nsnull
+ptotalmsgsize
+values
+copymbxfilebytes
+values
+prbool
+cmbxscanner
+isfromlinekey
+pruint
+pbuf
+pruint
+max
+max
+prfalse
+pbuf
+pbuf
+pbuf
+pbuf
+pbuf
+prtrue
+prfalse
+define
+isanyspace
+ch
+ch
+ch
+ch
+ch
+prbool
+cmbxscanner
+copymbxfilebytes
+pruint
+numbytes
+numbytes
+prtrue
+pruint
+cnt
+pruint
+last
+pruint
+inidx
+prbool
+first
+prtrue
+pruint
+pin
+pruint
+pstart
+print
+fromlen
+strlen
+mpfromline
+nsresult
+rv
+print
+cntread
+pruint
+pchar
+numbytes
+numbytes
+mbufsz
+inidx
+cnt
+mbufsz
+inidx
+cnt
+numbytes
+pchar
+mpinbuffer
+inidx
+rv
+mmbxfile
+read
+pchar
+print
+cnt
+cntread
+nsfailed
+rv
+cntread
+print
+cnt
+reportreaderror
+mmbxfile
+prfalse
+cnt
+last
+last
+last
+mpinbuffer
+cnt
+last
+mpinbuffer
+cnt
+last
+mpinbuffer
+cnt
+inidx
+first
+isfromlinekey
+mpinbuffer
+cnt
+inidx
+cnt
+mpinbuffer
+inidx
+xd
+inidx
+inidx
+cnt
+isanyspace
+mpinbuffer
+inidx
+inidx
+inidx
+cnt
+prtrue
+rv
+mdstfile
+write
+mpfromline
+fromlen
+cntread
+nsfailed
+rv
+cntread
+fromlen
+reportwriteerror
+mdstfile
+prfalse
+first
+prfalse
+pin
+mpinbuffer
+inidx
+numbytes
+cnt
+mdidbytes
+cnt
+pstart
+pin
+cnt
+inidx
+inidx
+cnt
+pin
+xd
+cnt
+numbytes
+cnt
+pin
+xa
+isfromlinekey
+pin
+cnt
+inidx
+rv
+mdstfile
+write
+pstart
+print
+inidx
+cntread
+nssucceeded
+rv
+cntread
+print
+inidx
+rv
+mdstfile
+write
+cntread
+nsfailed
+rv
+cntread
+reportwriteerror
+mdstfile
+prfalse
+cnt
+pin
+inidx
+pstart
+pin
+cnt
+inidx
+pin
+rv
+mdstfile
+write
+pstart
+print
+inidx
+cntread
+nsfailed
+rv
+cntread
+print
+inidx
+reportwriteerror
+mdstfile
+prfalse
+cnt
+inidx
+cnt
+memcpy
+mpinbuffer
+pin
+cnt
+inidx
+rv
+mdstfile
+write
+xd
+xa
+cntread
+nsfailed
+rv
+cntread
+reportwriteerror
+mdstfile
+prfalse
+prtrue
+cindexscanner
+cindexscanner
+nsstring
+name
+nsifilespec
+idxfile
+nsifilespec
+mbxfile
+nsifilespec
+dstfile
+cmbxscanner
+name
+mbxfile
+dstfile
+midxfile
+idxfile
+midxfile
+addref
+mcuritemindex
+midxoffset
+cindexscanner
+cindexscanner
+cleanup
+midxfile
+midxfile
+release
+prbool
+cindexscanner
+initialize
+cmbxscanner
+initialize
+prfalse
+nsresult
+rv
+midxfile
+openstreamforreading
+nsfailed
+rv
+cleanup
+prfalse
+prtrue
+prbool
+cindexscanner
+validateidxfile
+print
+id
+print
+cnt
+nsresult
+rv
+print
+cntread
+print
+preadto
+preadto
+id
+rv
+midxfile
+read
+preadto
+cnt
+cntread
+nsfailed
+rv
+cntread
+cnt
+prfalse
+id
+id
+id
+id
+prfalse
+cnt
+pruint
+subid
+preadto
+print
+subid
+rv
+midxfile
+read
+preadto
+cnt
+cntread
+nsfailed
+rv
+cntread
+cnt
+prfalse
+subid
+importlog
+idx
+file
+subid
+doesn
+match
+lx
+subid
+prfalse
+preadto
+print
+mnummessages
+rv
+midxfile
+read
+preadto
+cnt
+cntread
+nsfailed
+rv
+cntread
+cnt
+prfalse
+importlog
+idx
+file
+num
+messages
+ld
+mnummessages
+mdidbytes
+midxoffset
+prtrue
+define
+knumidxlongstoread
+prbool
+cindexscanner
+getmailitem
+pruint
+pflags
+pruint
+poffset
+pruint
+psize
+pruint
+values
+knumidxlongstoread
+print
+cnt
+knumidxlongstoread
+pruint
+print
+preadto
+print
+values
+print
+cntread
+nsresult
+rv
+rv
+midxfile
+seek
+midxoffset
+nsfailed
+rv
+prfalse
+rv
+midxfile
+read
+preadto
+cnt
+cntread
+nsfailed
+rv
+cntread
+cnt
+prfalse
+values
+midxoffset
+importlog
+self
+pointer
+invalid
+midxoffset
+lx
+self
+lx
+midxoffset
+values
+prfalse
+ifdef
+debugsubjectandflags
+importlog
+number
+ld
+msg
+offset
+lx
+values
+values
+importlog
+msg
+length
+ld
+flags
+lx
+values
+values
+midxfile
+seek
+midxoffset
+pruint
+subsz
+cnt
+preadto
+print
+subsz
+midxfile
+read
+preadto
+cnt
+cntread
+subsz
+subsz
+psub
+subsz
+midxfile
+read
+psub
+subsz
+cntread
+psub
+subsz
+importlog
+subject
+psub
+psub
+endif
+midxoffset
+values
+mdidbytes
+values
+pflags
+values
+poffset
+values
+psize
+values
+prtrue
+define
+koedeletedflag
+prbool
+cindexscanner
+dowork
+prbool
+pabort
+pruint
+pdone
+pruint
+pcount
+mdidbytes
+validateidxfile
+prfalse
+prbool
+failed
+prfalse
+mcuritemindex
+mnummessages
+failed
+pabort
+pruint
+flags
+offset
+size
+getmailitem
+flags
+offset
+size
+cleanup
+prfalse
+mcuritemindex
+flags
+koedeletedflag
+writemailitem
+flags
+offset
+size
+failed
+prtrue
+mmsgcount
+mdidbytes
+size
+pdone
+pdone
+mdidbytes
+pcount
+pcount
+mmsgcount
+cleanup
+failed
+cindexscanner
+cleanup
+cmbxscanner
+cleanup
+midxfile
+closestream
\ No newline at end of file
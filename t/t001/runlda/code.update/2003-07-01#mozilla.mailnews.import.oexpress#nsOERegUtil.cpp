@@ -0,0 +1,70 @@
+nsoeregutil
+oedebuglog
+byte
+nsoeregutil
+getvaluebytes
+hkey
+hkey
+pvaluename
+long
+err
+dword
+bufsz
+lpbyte
+pbytes
+dword
+type
+err
+regqueryvalueex
+hkey
+pvaluename
+type
+bufsz
+err
+errorsuccess
+pbytes
+byte
+bufsz
+err
+regqueryvalueex
+hkey
+pvaluename
+pbytes
+bufsz
+err
+errorsuccess
+pbytes
+pbytes
+type
+regexpandsz
+dword
+sz
+bufsz
+lpbyte
+pexpand
+dword
+rsz
+pexpand
+pexpand
+sz
+pexpand
+byte
+sz
+rsz
+expandenvironmentstrings
+lpcstr
+pbytes
+lpstr
+pexpand
+sz
+rsz
+sz
+pbytes
+pexpand
+pbytes
+nsoeregutil
+freevaluebytes
+byte
+pbytes
+pbytes
+pbytes nsresult
\ No newline at end of file
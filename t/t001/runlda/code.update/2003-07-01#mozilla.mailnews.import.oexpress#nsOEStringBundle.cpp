@@ -0,0 +1,143 @@
+prprf
+prmem
+nscomptr
+nsreadableutils
+nsistringbundle
+nsoestringbundle
+nsiservicemanager
+nsiproxyobjectmanager
+nsiuri
+nsdefinecid
+kproxyobjectmanagercid
+nsproxyeventmanagercid
+define
+oemsgsurl
+messenger
+locale
+oeimportmsgs
+properties
+nsistringbundle
+nsoestringbundle
+mpbundle
+nsnull
+nsistringbundle
+nsoestringbundle
+getstringbundle
+mpbundle
+mpbundle
+nsresult
+rv
+propertyurl
+oemsgsurl
+nsistringbundle
+sbundle
+nsnull
+nscomptr
+nsistringbundleservice
+sbundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nssucceeded
+rv
+nsnull
+sbundleservice
+rv
+sbundleservice
+createbundle
+propertyurl
+sbundle
+mpbundle
+sbundle
+sbundle
+nsistringbundle
+nsoestringbundle
+getstringbundleproxy
+mpbundle
+nsnull
+nsistringbundle
+strproxy
+nsnull
+nsresult
+rv
+nscomptr
+nsiproxyobjectmanager
+proxymgr
+dogetservice
+kproxyobjectmanagercid
+rv
+nssucceeded
+rv
+rv
+proxymgr
+getproxyforobject
+nsuithreadeventq
+nsgetiid
+nsistringbundle
+mpbundle
+proxysync
+proxyalways
+strproxy
+strproxy
+nsoestringbundle
+getstringbyid
+print
+stringid
+nsstring
+result
+nsistringbundle
+pbundle
+prunichar
+ptrv
+getstringbyid
+stringid
+pbundle
+result
+ptrv
+freestring
+ptrv
+prunichar
+nsoestringbundle
+getstringbyid
+print
+stringid
+nsistringbundle
+pbundle
+pbundle
+pbundle
+getstringbundle
+pbundle
+prunichar
+ptrv
+nsnull
+nsresult
+rv
+pbundle
+getstringfromid
+stringid
+ptrv
+nssucceeded
+rv
+ptrv
+ptrv
+nsstring
+resultstring
+resultstring
+append
+nsliteralstring
+stringid
+resultstring
+appendint
+stringid
+resultstring
+append
+nsliteralstring
+tonewunicode
+resultstring
+nsoestringbundle
+cleanup
+mpbundle
+mpbundle
+release
+mpbundle
+nsnull nsresult
\ No newline at end of file
@@ -0,0 +1,3145 @@
+mapidbglog
+mapiapi
+nscrt
+prprf
+nsreadableutils
+nsunicharutils
+cmapiapi
+mclients
+bool
+cmapiapi
+minitialized
+prfalse
+nsvoidarray
+cmapiapi
+mpstores
+lpmapisession
+cmapiapi
+mlpsession
+lpmdb
+cmapiapi
+mlpmdb
+hresult
+cmapiapi
+mlasterror
+prunichar
+cmapiapi
+mpunibuff
+cmapiapi
+munibufflen
+hinstance
+cmapiapi
+mhmapi
+lpmapiuninitialize
+gpmapiuninitialize
+lpmapiinitialize
+gpmapiinitialize
+lpmapiallocatebuffer
+gpmapiallocatebuffer
+lpmapifreebuffer
+gpmapifreebuffer
+lpmapilogonex
+gpmapilogonex
+lpopenstreamonfile
+gpmapiopenstreamonfile
+bool
+cmapiapi
+loadmapientrypoints
+gpmapiuninitialize
+lpmapiuninitialize
+getprocaddress
+mhmapi
+mapiuninitialize
+false
+gpmapiinitialize
+lpmapiinitialize
+getprocaddress
+mhmapi
+mapiinitialize
+false
+gpmapiallocatebuffer
+lpmapiallocatebuffer
+getprocaddress
+mhmapi
+mapiallocatebuffer
+false
+gpmapifreebuffer
+lpmapifreebuffer
+getprocaddress
+mhmapi
+mapifreebuffer
+false
+gpmapilogonex
+lpmapilogonex
+getprocaddress
+mhmapi
+mapilogonex
+false
+gpmapiopenstreamonfile
+lpopenstreamonfile
+getprocaddress
+mhmapi
+openstreamonfile
+false
+true
+cmapiapi
+mapiuninitialize
+mhmapi
+gpmapiuninitialize
+gpmapiuninitialize
+hresult
+cmapiapi
+mapiinitialize
+lpvoid
+lpinit
+mhmapi
+gpmapiinitialize
+gpmapiinitialize
+lpinit
+mapienotinitialized
+scode
+cmapiapi
+mapiallocatebuffer
+ulong
+cbsize
+lpvoid
+far
+lppbuffer
+mhmapi
+gpmapiallocatebuffer
+gpmapiallocatebuffer
+cbsize
+lppbuffer
+mapienotinitialized
+ulong
+cmapiapi
+mapifreebuffer
+lpvoid
+lpbuff
+mhmapi
+gpmapifreebuffer
+gpmapifreebuffer
+lpbuff
+mapienotinitialized
+hresult
+cmapiapi
+mapilogonex
+ulong
+uluiparam
+lptstr
+lpszprofilename
+lptstr
+lpszpassword
+flags
+flflags
+lpmapisession
+far
+lppsession
+mhmapi
+gpmapilogonex
+gpmapilogonex
+uluiparam
+lpszprofilename
+lpszpassword
+flflags
+lppsession
+mapienotinitialized
+hresult
+cmapiapi
+openstreamonfile
+lpallocatebuffer
+lpallocatebuffer
+lpfreebuffer
+lpfreebuffer
+ulong
+ulflags
+lptstr
+lpszfilename
+lptstr
+lpszprefix
+lpstream
+far
+lppstream
+mhmapi
+gpmapiopenstreamonfile
+gpmapiopenstreamonfile
+lpallocatebuffer
+lpfreebuffer
+ulflags
+lpszfilename
+lpszprefix
+lppstream
+mapienotinitialized
+cmapiapi
+freeprows
+lpsrowset
+prows
+ulong
+irow
+prows
+irow
+irow
+prows
+crows
+irow
+mapifreebuffer
+prows
+arow
+irow
+lpprops
+mapifreebuffer
+prows
+bool
+cmapiapi
+loadmapi
+mhmapi
+true
+hinstance
+hinst
+loadlibrary
+mapi
+dll
+hinst
+false
+farproc
+pproc
+getprocaddress
+hinst
+mapigetnetscapeversion
+pproc
+freelibrary
+hinst
+hinst
+loadlibrary
+mapibak
+dll
+hinst
+false
+mhmapi
+hinst
+loadmapientrypoints
+cmapiapi
+unloadmapi
+mhmapi
+freelibrary
+mhmapi
+mhmapi
+cmapiapi
+cmapiapi
+mclients
+loadmapi
+mpstores
+mpstores
+nsvoidarray
+cmapiapi
+cmapiapi
+mclients
+mclients
+hresult
+hr
+clearmessagestores
+mpstores
+mpstores
+mlpmdb
+mlpsession
+hr
+mlpsession
+logoff
+failed
+hr
+mapitrace
+logoff
+failed
+lx
+hr
+hr
+mlpsession
+release
+mlpsession
+minitialized
+mapiuninitialize
+minitialized
+false
+unloadmapi
+mpunibuff
+mpunibuff
+mpunibuff
+munibufflen
+cmapiapi
+cstrtounicode
+pstr
+nsstring
+result
+result
+truncate
+wlen
+multibytetowidechar
+cpacp
+pstr
+mpunibuff
+wlen
+munibufflen
+mpunibuff
+mpunibuff
+mpunibuff
+prunichar
+wlen
+munibufflen
+wlen
+wlen
+multibytetowidechar
+cpacp
+pstr
+mpunibuff
+munibufflen
+result
+mpunibuff
+bool
+cmapiapi
+initialize
+minitialized
+true
+hresult
+hr
+hr
+mapiinitialize
+failed
+hr
+mapitrace
+mapi
+initialize
+failed
+lx
+hr
+hr
+false
+minitialized
+true
+mapitrace
+mapi
+initialized
+true
+bool
+cmapiapi
+logon
+minitialized
+mapitrace
+tried
+to
+logon
+before
+initializing
+mapi
+false
+mlpsession
+true
+hresult
+hr
+hr
+mapilogonex
+mapinomail
+mapiusedefault
+mapiextended
+mapinewsession
+mlpsession
+failed
+hr
+mlpsession
+mapitrace
+logon
+failed
+lx
+hr
+hr
+false
+mapitrace
+mapi
+logged
+on
+true
+cgetstorefoldersiter
+cmapihierarchyiter
+cgetstorefoldersiter
+cmapiapi
+papi
+cmapifolderlist
+folders
+depth
+bool
+ismail
+true
+bool
+handlehierarchyitem
+ulong
+otype
+ulong
+cb
+lpentryid
+pentry
+bool
+excludefolderclass
+prunichar
+pname
+bool
+mismail
+cmapiapi
+mpapi
+cmapifolderlist
+mplist
+mdepth
+cgetstorefoldersiter
+cgetstorefoldersiter
+cmapiapi
+papi
+cmapifolderlist
+folders
+depth
+bool
+ismail
+mpapi
+papi
+mplist
+folders
+mdepth
+depth
+mismail
+ismail
+bool
+cgetstorefoldersiter
+excludefolderclass
+prunichar
+pname
+bool
+bresult
+nsdependentstring
+pnamestr
+pname
+mismail
+bresult
+false
+pnamestr
+equals
+nsliteralstring
+ipf
+appointment
+bresult
+true
+pnamestr
+equals
+nsliteralstring
+ipf
+contact
+bresult
+true
+pnamestr
+equals
+nsliteralstring
+ipf
+journal
+bresult
+true
+pnamestr
+equals
+nsliteralstring
+ipf
+stickynote
+bresult
+true
+pnamestr
+equals
+nsliteralstring
+ipf
+task
+bresult
+true
+bresult
+true
+pnamestr
+equals
+nsliteralstring
+ipf
+contact
+bresult
+false
+bresult
+bool
+cgetstorefoldersiter
+handlehierarchyitem
+ulong
+otype
+ulong
+cb
+lpentryid
+pentry
+otype
+mapifolder
+lpmapifolder
+pfolder
+mpapi
+openentry
+cb
+pentry
+lpunknown
+pfolder
+lpspropvalue
+pval
+nsstring
+name
+pval
+mpapi
+getmapiproperty
+pfolder
+prcontainerclass
+pval
+mpapi
+getstringfromprop
+pval
+name
+name
+truncate
+name
+isempty
+mismail
+excludefolderclass
+name
+get
+pval
+mpapi
+getmapiproperty
+pfolder
+prdisplayname
+mpapi
+getstringfromprop
+pval
+name
+cmapifolder
+pnewfolder
+cmapifolder
+name
+get
+cb
+pentry
+mdepth
+mplist
+additem
+pnewfolder
+pval
+mpapi
+getmapiproperty
+pfolder
+prfoldertype
+mapitrace
+type
+name
+mpapi
+getlongfromprop
+pval
+name
+cgetstorefoldersiter
+nextiter
+mpapi
+mplist
+mdepth
+mismail
+mpapi
+iteratehierarchy
+nextiter
+pfolder
+pfolder
+release
+mapitrace
+getstorefolders
+handlehierarchyitem
+error
+opening
+folder
+entry
+false
+mapitrace
+getstorefolders
+handlehierarchyitem
+unhandled
+objecttype
+ld
+otype
+true
+bool
+cmapiapi
+getstorefolders
+ulong
+cbeid
+lpentryid
+lpeid
+cmapifolderlist
+folders
+startdepth
+minitialized
+mlpsession
+mapitrace
+mapi
+initialized
+getstorefolders
+false
+mlpmdb
+cmsgstore
+pstore
+findmessagestore
+cbeid
+lpeid
+bool
+bresult
+false
+lpspropvalue
+pval
+pstore
+pstore
+open
+mlpsession
+mlpmdb
+pval
+getmapiproperty
+mlpmdb
+pripmsubtreeentryid
+pval
+ulong
+cbentry
+lpentryid
+pentry
+lpmapifolder
+lpsubtree
+getentryidfromprop
+pval
+cbentry
+pentry
+bresult
+openentry
+cbentry
+pentry
+lpunknown
+lpsubtree
+mapifreebuffer
+pentry
+bresult
+lpsubtree
+cgetstorefoldersiter
+iterhandler
+folders
+startdepth
+bresult
+iteratehierarchy
+iterhandler
+lpsubtree
+lpsubtree
+release
+mapitrace
+getstorefolders
+error
+opening
+sub
+tree
+mapitrace
+getstorefolders
+error
+getting
+entryid
+from
+sub
+tree
+property
+val
+mapitrace
+getstorefolders
+error
+getting
+sub
+tree
+property
+mapitrace
+getstorefolders
+error
+opening
+message
+store
+bresult
+bool
+cmapiapi
+getstoreaddressfolders
+ulong
+cbeid
+lpentryid
+lpeid
+cmapifolderlist
+folders
+minitialized
+mlpsession
+mapitrace
+mapi
+initialized
+getstoreaddressfolders
+false
+mlpmdb
+cmsgstore
+pstore
+findmessagestore
+cbeid
+lpeid
+bool
+bresult
+false
+lpspropvalue
+pval
+pstore
+pstore
+open
+mlpsession
+mlpmdb
+pval
+getmapiproperty
+mlpmdb
+pripmsubtreeentryid
+pval
+ulong
+cbentry
+lpentryid
+pentry
+lpmapifolder
+lpsubtree
+getentryidfromprop
+pval
+cbentry
+pentry
+bresult
+openentry
+cbentry
+pentry
+lpunknown
+lpsubtree
+mapifreebuffer
+pentry
+bresult
+lpsubtree
+cgetstorefoldersiter
+iterhandler
+folders
+false
+bresult
+iteratehierarchy
+iterhandler
+lpsubtree
+lpsubtree
+release
+mapitrace
+getstoreaddressfolders
+error
+opening
+sub
+tree
+mapitrace
+getstoreaddressfolders
+error
+getting
+entryid
+from
+sub
+tree
+property
+val
+mapitrace
+getstoreaddressfolders
+error
+getting
+sub
+tree
+property
+mapitrace
+getstoreaddressfolders
+error
+opening
+message
+store
+bresult
+bool
+cmapiapi
+openstore
+ulong
+cbeid
+lpentryid
+lpeid
+lpmdb
+ppmdb
+mlpsession
+mapitrace
+openstore
+called
+before
+session
+was
+opened
+false
+cmsgstore
+pstore
+findmessagestore
+cbeid
+lpeid
+pstore
+pstore
+open
+mlpsession
+ppmdb
+true
+false
+bool
+cmapiapi
+openentry
+ulong
+cbentry
+lpentryid
+pentryid
+lpunknown
+ppopen
+mlpmdb
+mapitrace
+openentry
+called
+before
+the
+message
+store
+is
+open
+false
+openmdbentry
+mlpmdb
+cbentry
+pentryid
+ppopen
+bool
+cmapiapi
+openmdbentry
+lpmdb
+lpmdb
+ulong
+cbentry
+lpentryid
+pentryid
+lpunknown
+ppopen
+ulong
+ulobjtype
+hresult
+hr
+hr
+lpmdb
+openentry
+cbentry
+pentryid
+ulobjtype
+lpunknown
+ppopen
+failed
+hr
+mapitrace
+openmdbentry
+failed
+lx
+hr
+hr
+false
+true
+ieidprentryid
+ieidprobjecttype
+ieidmax
+sizedsproptagarray
+ieidmax
+ptaeid
+ieidmax
+prentryid
+probjecttype
+bool
+cmapiapi
+iteratecontents
+cmapicontentiter
+piter
+lpmapifolder
+pfolder
+ulong
+flags
+hresult
+hr
+lpmapitable
+lptable
+hr
+pfolder
+getcontentstable
+flags
+lptable
+failed
+hr
+mapitrace
+getcontentstable
+failed
+lx
+hr
+hr
+false
+ulong
+rowcount
+hr
+lptable
+getrowcount
+rowcount
+rowcount
+mapitrace
+empty
+table
+hr
+lptable
+setcolumns
+lpsproptagarray
+ptaeid
+failed
+hr
+lptable
+release
+mapitrace
+setcolumns
+failed
+lx
+hr
+hr
+false
+hr
+lptable
+seekrow
+bookmarkbeginning
+failed
+hr
+lptable
+release
+mapitrace
+seekrow
+failed
+lx
+hr
+hr
+false
+cnumrows
+lpsrowset
+lprow
+bool
+keepgoing
+true
+bool
+bresult
+true
+lprow
+hr
+lptable
+queryrows
+lprow
+hrfailed
+hr
+mapitrace
+queryrows
+failed
+lx
+hr
+hr
+bresult
+false
+lprow
+cnumrows
+lprow
+crows
+cnumrows
+lpentryid
+lpeid
+lpentryid
+lprow
+arow
+lpprops
+ieidprentryid
+value
+bin
+lpb
+ulong
+cbeid
+lprow
+arow
+lpprops
+ieidprentryid
+value
+bin
+cb
+ulong
+otype
+lprow
+arow
+lpprops
+ieidprobjecttype
+value
+ul
+keepgoing
+handlecontentsitem
+otype
+cbeid
+lpeid
+mapitrace
+objecttype
+ld
+otype
+freeprows
+lprow
+succeeded
+hr
+cnumrows
+lprow
+keepgoing
+lptable
+release
+bresult
+bool
+cmapiapi
+handlecontentsitem
+ulong
+otype
+ulong
+cb
+lpentryid
+pentry
+otype
+mapimessage
+lpmessage
+pmsg
+openentry
+cb
+pentry
+lpunknown
+pmsg
+lpspropvalue
+pval
+pval
+getmapiproperty
+pmsg
+prsubject
+reportstringprop
+prsubject
+pval
+pval
+getmapiproperty
+pmsg
+prdisplaybcc
+reportstringprop
+prdisplaybcc
+pval
+pval
+getmapiproperty
+pmsg
+prdisplaycc
+reportstringprop
+prdisplaycc
+pval
+pval
+getmapiproperty
+pmsg
+prdisplayto
+reportstringprop
+prdisplayto
+pval
+pval
+getmapiproperty
+pmsg
+prmessageclass
+reportstringprop
+prmessageclass
+pval
+listproperties
+pmsg
+pmsg
+release
+mapitrace
+folder
+type
+error
+opening
+mapitrace
+objecttype
+ld
+otype
+true
+cmapiapi
+listproperties
+lpmapiprop
+lpprop
+bool
+getvalues
+lpsproptagarray
+parray
+hresult
+hr
+lpprop
+getproplist
+parray
+failed
+hr
+mapitrace
+unable
+to
+retrieve
+property
+list
+ulong
+count
+lpmapinameid
+far
+lpppropnames
+sproptagarray
+tagarray
+lpsproptagarray
+lptagarray
+tagarray
+tagarray
+cvalues
+ulong
+nscstring
+desc
+ulong
+parray
+cvalues
+getproptagname
+parray
+aulproptag
+desc
+getvalues
+tagarray
+aulproptag
+parray
+aulproptag
+hr
+lpprop
+getnamesfromids
+lptagarray
+nsnull
+count
+lpppropnames
+hr
+sok
+mapifreebuffer
+lpppropnames
+lpspropvalue
+pval
+getmapiproperty
+lpprop
+parray
+aulproptag
+pval
+desc
+listpropertyvalue
+pval
+desc
+mapifreebuffer
+pval
+mapitrace
+tag
+desc
+mapifreebuffer
+parray
+ulong
+cmapiapi
+getemailpropertytag
+lpmapiprop
+lpprop
+long
+nameid
+guid
+emailguid
+xc
+mapinameid
+mapinameid
+mapinameid
+lpguid
+emailguid
+mapinameid
+ulkind
+mnidid
+mapinameid
+kind
+lid
+nameid
+lpmapinameid
+lpmapinames
+mapinameid
+lpsproptagarray
+lpmailtagarray
+nsnull
+hresult
+result
+lpprop
+getidsfromnames
+lpmapinames
+lpmailtagarray
+result
+sok
+ulong
+ltag
+lpmailtagarray
+aulproptag
+mapifreebuffer
+lpmailtagarray
+ltag
+bool
+cmapiapi
+handlehierarchyitem
+ulong
+otype
+ulong
+cb
+lpentryid
+pentry
+otype
+mapifolder
+lpmapifolder
+pfolder
+openentry
+cb
+pentry
+lpunknown
+pfolder
+lpspropvalue
+pval
+pval
+getmapiproperty
+pfolder
+prdisplayname
+reportstringprop
+folder
+name
+pval
+iteratecontents
+pfolder
+iteratehierarchy
+pfolder
+pfolder
+release
+mapitrace
+folder
+type
+error
+opening
+mapitrace
+objecttype
+ld
+otype
+true
+bool
+cmapiapi
+iteratehierarchy
+cmapihierarchyiter
+piter
+lpmapifolder
+pfolder
+ulong
+flags
+hresult
+hr
+lpmapitable
+lptable
+hr
+pfolder
+gethierarchytable
+flags
+lptable
+hrfailed
+hr
+mlasterror
+hr
+mapitrace
+iteratehierarchy
+getcontentstable
+failed
+lx
+hr
+hr
+false
+ulong
+rowcount
+hr
+lptable
+getrowcount
+rowcount
+rowcount
+lptable
+release
+true
+hr
+lptable
+setcolumns
+lpsproptagarray
+ptaeid
+hrfailed
+hr
+mlasterror
+hr
+lptable
+release
+mapitrace
+iteratehierarchy
+setcolumns
+failed
+lx
+hr
+hr
+false
+hr
+lptable
+seekrow
+bookmarkbeginning
+hrfailed
+hr
+mlasterror
+hr
+lptable
+release
+mapitrace
+iteratehierarchy
+seekrow
+failed
+lx
+hr
+hr
+false
+cnumrows
+lpsrowset
+lprow
+bool
+keepgoing
+true
+bool
+bresult
+true
+lprow
+hr
+lptable
+queryrows
+lprow
+hrfailed
+hr
+mapitrace
+queryrows
+failed
+lx
+hr
+hr
+mlasterror
+hr
+bresult
+false
+lprow
+cnumrows
+lprow
+crows
+cnumrows
+lpentryid
+lpentry
+lpentryid
+lprow
+arow
+lpprops
+ieidprentryid
+value
+bin
+lpb
+ulong
+cb
+lprow
+arow
+lpprops
+ieidprentryid
+value
+bin
+cb
+ulong
+otype
+lprow
+arow
+lpprops
+ieidprobjecttype
+value
+ul
+piter
+keepgoing
+piter
+handlehierarchyitem
+otype
+cb
+lpentry
+keepgoing
+handlehierarchyitem
+otype
+cb
+lpentry
+freeprows
+lprow
+succeeded
+hr
+cnumrows
+lprow
+keepgoing
+lptable
+release
+bresult
+keepgoing
+bresult
+false
+bresult
+itblprdisplayname
+itblprentryid
+itblmax
+sizedsproptagarray
+itblmax
+ptatbl
+itblmax
+prdisplayname
+prentryid
+bool
+cmapiapi
+iteratestores
+cmapifolderlist
+stores
+stores
+clearall
+mlpsession
+mapitrace
+iteratestores
+called
+before
+session
+is
+open
+mlasterror
+false
+hresult
+hr
+lpmapitable
+lptable
+hr
+mlpsession
+getmsgstorestable
+lptable
+failed
+hr
+mapitrace
+getmsgstorestable
+failed
+mlasterror
+hr
+false
+ulong
+rowcount
+hr
+lptable
+getrowcount
+rowcount
+mapitrace
+msgstores
+table
+rowcount
+ld
+rowcount
+hr
+lptable
+setcolumns
+lpsproptagarray
+ptatbl
+failed
+hr
+lptable
+release
+mapitrace
+setcolumns
+failed
+lx
+hr
+hr
+mlasterror
+hr
+false
+hr
+lptable
+seekrow
+bookmarkbeginning
+failed
+hr
+lptable
+release
+mapitrace
+seekrow
+failed
+lx
+hr
+hr
+mlasterror
+hr
+false
+cnumrows
+lpsrowset
+lprow
+bool
+keepgoing
+true
+bool
+bresult
+true
+lprow
+hr
+lptable
+queryrows
+lprow
+hrfailed
+hr
+mapitrace
+queryrows
+failed
+lx
+hr
+hr
+bresult
+false
+mlasterror
+hr
+lprow
+cnumrows
+lprow
+crows
+cnumrows
+lpctstr
+lpstr
+lpctstr
+lprow
+arow
+lpprops
+itblprdisplayname
+value
+lpsz
+lpentryid
+lpeid
+lpentryid
+lprow
+arow
+lpprops
+itblprentryid
+value
+bin
+lpb
+ulong
+cbeid
+lprow
+arow
+lpprops
+itblprentryid
+value
+bin
+cb
+strlen
+strlen
+lpstr
+prunichar
+pwszstr
+prunichar
+nsmemory
+alloc
+strlen
+wchar
+pwszstr
+freeprows
+lprow
+lptable
+release
+false
+multibytetowidechar
+cpacp
+lpstr
+strlen
+lpstr
+pwszstr
+strlen
+wchar
+cmapifolder
+pfolder
+cmapifolder
+pwszstr
+cbeid
+lpeid
+mapistore
+nsmemory
+free
+pwszstr
+szcontents
+getstoreinfo
+pfolder
+szcontents
+mapitrace
+displayname
+lpstr
+szcontents
+stores
+additem
+pfolder
+pfolder
+mapitrace
+^^^^^
+not
+added
+to
+store
+list
+keepgoing
+true
+freeprows
+lprow
+succeeded
+hr
+cnumrows
+lprow
+keepgoing
+lptable
+release
+bresult
+cmapiapi
+getstoreinfo
+cmapifolder
+pfolder
+pszcontents
+hresult
+hr
+lpmdb
+lpmdb
+pszcontents
+pszcontents
+openstore
+pfolder
+getcbentryid
+pfolder
+getentryid
+lpmdb
+lpspropvalue
+pval
+pval
+getmapiproperty
+lpmdb
+pripmsubtreeentryid
+pval
+ulong
+cbentry
+lpentryid
+pentry
+lpmapifolder
+lpsubtree
+getentryidfromprop
+pval
+cbentry
+pentry
+ulong
+ulobjtype
+hr
+lpmdb
+openentry
+cbentry
+pentry
+ulobjtype
+lpunknown
+lpsubtree
+mapifreebuffer
+pentry
+succeeded
+hr
+lpsubtree
+lpmapitable
+lptable
+hr
+lpsubtree
+gethierarchytable
+lptable
+hrfailed
+hr
+mapitrace
+getstoreinfo
+gethierarchytable
+failed
+lx
+hr
+hr
+ulong
+rowcount
+hr
+lptable
+getrowcount
+rowcount
+lptable
+release
+succeeded
+hr
+pszcontents
+pszcontents
+rowcount
+lpsubtree
+release
+cmapiapi
+clearmessagestores
+mpstores
+cmsgstore
+pstore
+mpstores
+count
+pstore
+cmsgstore
+mpstores
+elementat
+pstore
+mpstores
+clear
+cmapiapi
+addmessagestore
+cmsgstore
+pstore
+mpstores
+mpstores
+appendelement
+pstore
+cmsgstore
+cmapiapi
+findmessagestore
+ulong
+cbeid
+lpentryid
+lpeid
+mlpsession
+mapitrace
+findmessagestore
+called
+before
+session
+is
+open
+mlasterror
+ulong
+result
+hresult
+hr
+cmsgstore
+pstore
+mpstores
+count
+pstore
+cmsgstore
+mpstores
+elementat
+hr
+mlpsession
+compareentryids
+cbeid
+lpeid
+pstore
+getcbentryid
+pstore
+getlpentryid
+result
+hrfailed
+hr
+mapitrace
+compareentryids
+failed
+lx
+hr
+hr
+mlasterror
+hr
+result
+pstore
+pstore
+cmsgstore
+cbeid
+lpeid
+addmessagestore
+pstore
+pstore
+lpspropvalue
+cmapiapi
+getmapiproperty
+lpmapiprop
+pprop
+ulong
+tag
+pprop
+sz
+cbnewsproptagarray
+sproptagarray
+ptag
+sproptagarray
+sz
+ptag
+cvalues
+ptag
+aulproptag
+tag
+lpspropvalue
+lpprop
+ulong
+cvalues
+hresult
+hr
+pprop
+getprops
+ptag
+cvalues
+lpprop
+ptag
+hrfailed
+hr
+cvalues
+lpprop
+mapifreebuffer
+lpprop
+proptype
+lpprop
+ulproptag
+pterror
+lpprop
+value
+mapienotfound
+mapifreebuffer
+lpprop
+lpprop
+lpprop
+bool
+cmapiapi
+islargeproperty
+lpspropvalue
+pval
+proptype
+pval
+ulproptag
+pterror
+pval
+value
+eoutofmemory
+true
+false
+bool
+cmapiapi
+getlargestringproperty
+lpmapiprop
+pprop
+ulong
+tag
+nscstring
+val
+lpstream
+lpstream
+hresult
+hr
+pprop
+openproperty
+tag
+iidistream
+lpunknown
+lpstream
+hrfailed
+hr
+false
+statstg
+st
+bool
+bresult
+true
+hr
+lpstream
+stat
+st
+statflagnoname
+hrfailed
+hr
+bresult
+false
+st
+cbsize
+quadpart
+st
+cbsize
+quadpart
+pval
+st
+cbsize
+quadpart
+pval
+ulong
+sz
+hr
+lpstream
+read
+pval
+ulong
+st
+cbsize
+quadpart
+sz
+hrfailed
+hr
+bresult
+false
+pval
+sz
+pval
+st
+cbsize
+quadpart
+val
+pval
+pval
+bresult
+false
+lpstream
+release
+bresult
+bool
+cmapiapi
+getlargestringproperty
+lpmapiprop
+pprop
+ulong
+tag
+nsstring
+val
+nscstring
+result
+getlargestringproperty
+pprop
+tag
+result
+cstrtounicode
+result
+get
+val
+true
+false
+bool
+cmapiapi
+getentryidfromprop
+lpspropvalue
+pval
+ulong
+cbentryid
+lpentryid
+lpentryid
+bool
+delval
+pval
+false
+bool
+bresult
+true
+proptype
+pval
+ulproptag
+ptbinary
+cbentryid
+pval
+value
+bin
+cb
+mapiallocatebuffer
+cbentryid
+lpvoid
+lpentryid
+memcpy
+lpentryid
+pval
+value
+bin
+lpb
+cbentryid
+mapitrace
+entryid
+in
+binary
+prop
+value
+bresult
+false
+pval
+delval
+mapifreebuffer
+pval
+bresult
+bool
+cmapiapi
+getstringfromprop
+lpspropvalue
+pval
+nscstring
+val
+bool
+delval
+bool
+bresult
+true
+pval
+proptype
+pval
+ulproptag
+ptstring
+val
+pval
+value
+lpsza
+pval
+proptype
+pval
+ulproptag
+ptunicode
+val
+assignwithconversion
+prunichar
+pval
+value
+lpszw
+pval
+proptype
+pval
+ulproptag
+ptnull
+val
+truncate
+pval
+proptype
+pval
+ulproptag
+pterror
+val
+truncate
+bresult
+false
+pval
+mapitrace
+getstringfromprop
+invalid
+value
+expecting
+proptype
+pval
+ulproptag
+mapitrace
+getstringfromprop
+invalid
+value
+expecting
+got
+pointer
+val
+truncate
+bresult
+false
+pval
+delval
+mapifreebuffer
+pval
+bresult
+bool
+cmapiapi
+getstringfromprop
+lpspropvalue
+pval
+nsstring
+val
+bool
+delval
+bool
+bresult
+true
+pval
+proptype
+pval
+ulproptag
+ptstring
+cstrtounicode
+pval
+value
+lpsza
+val
+pval
+proptype
+pval
+ulproptag
+ptunicode
+val
+prunichar
+pval
+value
+lpszw
+pval
+proptype
+pval
+ulproptag
+ptnull
+val
+truncate
+pval
+proptype
+pval
+ulproptag
+pterror
+val
+truncate
+bresult
+false
+pval
+mapitrace
+getstringfromprop
+invalid
+value
+expecting
+proptype
+pval
+ulproptag
+mapitrace
+getstringfromprop
+invalid
+value
+expecting
+got
+pointer
+val
+truncate
+bresult
+false
+pval
+delval
+mapifreebuffer
+pval
+bresult
+long
+cmapiapi
+getlongfromprop
+lpspropvalue
+pval
+bool
+delval
+long
+val
+pval
+proptype
+pval
+ulproptag
+ptlong
+val
+pval
+value
+pval
+proptype
+pval
+ulproptag
+ptnull
+val
+pval
+proptype
+pval
+ulproptag
+pterror
+val
+mapitrace
+getlongfromprop
+error
+retrieving
+property
+mapitrace
+getlongfromprop
+invalid
+value
+expecting
+pval
+delval
+mapifreebuffer
+pval
+val
+cmapiapi
+reportuidprop
+ptag
+lpspropvalue
+pval
+pval
+proptype
+pval
+ulproptag
+ptbinary
+pval
+value
+bin
+cb
+mapitrace
+invalid
+expecting
+bytes
+of
+binary
+data
+uid
+ptag
+nsiid
+uid
+memcpy
+uid
+pval
+value
+bin
+lpb
+pstr
+uid
+tostring
+pstr
+mapitrace
+ptag
+pstr
+nscrt
+free
+pstr
+pval
+proptype
+pval
+ulproptag
+ptnull
+mapitrace
+ptag
+pval
+proptype
+pval
+ulproptag
+pterror
+mapitrace
+error
+retrieving
+property
+ptag
+mapitrace
+invalid
+value
+expecting
+binary
+ptag
+pval
+mapifreebuffer
+pval
+cmapiapi
+reportlongprop
+ptag
+lpspropvalue
+pval
+pval
+proptype
+pval
+ulproptag
+ptlong
+nscstring
+num
+nscstring
+num
+num
+appendint
+print
+pval
+value
+num
+appendint
+print
+pval
+value
+mapitrace
+ptag
+num
+num
+pval
+proptype
+pval
+ulproptag
+ptnull
+mapitrace
+ptag
+pval
+proptype
+pval
+ulproptag
+pterror
+mapitrace
+error
+retrieving
+property
+ptag
+pval
+proptype
+pval
+ulproptag
+pterror
+mapitrace
+error
+retrieving
+property
+ptag
+mapitrace
+invalid
+value
+expecting
+ptag
+pval
+mapifreebuffer
+pval
+cmapiapi
+reportstringprop
+ptag
+lpspropvalue
+pval
+pval
+proptype
+pval
+ulproptag
+pttstring
+nscstring
+val
+lpctstr
+pval
+value
+lpsz
+mapitrace
+ptag
+val
+pval
+proptype
+pval
+ulproptag
+ptnull
+mapitrace
+ptag
+pval
+proptype
+pval
+ulproptag
+pterror
+mapitrace
+error
+retrieving
+property
+ptag
+mapitrace
+invalid
+value
+expecting
+ptag
+pval
+mapifreebuffer
+pval
+cmapiapi
+getproptagname
+ulong
+tag
+nscstring
+numstr
+prsnprintf
+numstr
+lx
+ld
+tag
+tag
+numstr
+tag
+mapitagstrs
+cpp
+data
+proptype
+tag
+ptunspecified
+ptunspecified
+ptnull
+ptnull
+pti
+pti
+ptlong
+ptlong
+ptr
+ptr
+ptdouble
+ptdouble
+ptcurrency
+ptcurrency
+ptapptime
+ptapptime
+pterror
+pterror
+ptboolean
+ptboolean
+ptobject
+ptobject
+pti
+pti
+ptstring
+ptstring
+ptunicode
+ptunicode
+ptsystime
+ptsystime
+ptclsid
+ptclsid
+ptbinary
+ptbinary
+ptmvi
+ptmvi
+ptmvlong
+ptmvlong
+ptmvr
+ptmvr
+ptmvdouble
+ptmvdouble
+ptmvcurrency
+ptmvcurrency
+ptmvapptime
+ptmvapptime
+ptmvsystime
+ptmvsystime
+ptmvstring
+ptmvstring
+ptmvbinary
+ptmvbinary
+ptmvunicode
+ptmvunicode
+ptmvclsid
+ptmvclsid
+ptmvi
+ptmvi
+unknown
+replaceeolchars
+nscstring
+idx
+nscstring
+nscstring
+rt
+idx
+find
+xd
+left
+idx
+right
+rt
+length
+idx
+rt
+idx
+find
+xa
+left
+idx
+right
+rt
+length
+idx
+rt
+cmapiapi
+listpropertyvalue
+lpspropvalue
+pval
+nscstring
+nscstring
+strval
+nbuff
+nscstring
+value
+proptype
+pval
+ulproptag
+ptstring
+getstringfromprop
+pval
+strval
+false
+strval
+length
+strval
+left
+strval
+strval
+replaceeolchars
+strval
+strval
+ptlong
+appendint
+print
+pval
+value
+appendint
+print
+pval
+value
+nbuff
+ptboolean
+pval
+value
+true
+false
+ptnull
+ptsystime
+figure
+out
+how
+to
+format
+time
+in
+ptsystime
+cmapifolderlist
+cmapifolderlist
+cmapifolderlist
+cmapifolderlist
+clearall
+cmapifolderlist
+additem
+cmapifolder
+pfolder
+ensureuniquename
+pfolder
+generatefilepath
+pfolder
+marray
+appendelement
+pfolder
+cmapifolderlist
+changename
+nsstring
+name
+name
+isempty
+name
+assign
+nsliteralstring
+prunichar
+lastc
+name
+last
+lastc
+lastc
+lastc
+lastc
+lastc
+name
+setcharat
+lastc
+name
+length
+name
+append
+nsliteralstring
+name
+setcharat
+lastc
+name
+length
+name
+append
+nsliteralstring
+cmapifolderlist
+ensureuniquename
+cmapifolder
+pfolder
+cmapifolder
+pcurrent
+bool
+done
+nsstring
+name
+nsstring
+cname
+pfolder
+getdisplayname
+name
+done
+true
+marray
+count
+pcurrent
+cmapifolder
+getat
+pcurrent
+getdepth
+pfolder
+getdepth
+pcurrent
+getdisplayname
+cname
+cname
+equals
+name
+nscaseinsensitivestringcomparator
+changename
+name
+pfolder
+setdisplayname
+name
+get
+done
+false
+pcurrent
+getdepth
+pfolder
+getdepth
+done
+cmapifolderlist
+generatefilepath
+cmapifolder
+pfolder
+nsstring
+name
+nsstring
+path
+pfolder
+getdepth
+pfolder
+getdisplayname
+name
+pfolder
+setfilepath
+name
+get
+cmapifolder
+pcurrent
+marray
+count
+pcurrent
+cmapifolder
+getat
+pcurrent
+getdepth
+pfolder
+getdepth
+pcurrent
+getfilepath
+path
+path
+append
+nsliteralstring
+sbd
+pfolder
+getdisplayname
+name
+path
+name
+pfolder
+setfilepath
+path
+get
+pfolder
+getdisplayname
+name
+pfolder
+setfilepath
+name
+get
+cmapifolderlist
+clearall
+cmapifolder
+pfolder
+marray
+count
+pfolder
+cmapifolder
+getat
+pfolder
+marray
+clear
+cmapifolderlist
+dumplist
+cmapifolder
+pfolder
+nsstring
+str
+depth
+prefix
+mapitrace
+folder
+list
+marray
+count
+pfolder
+cmapifolder
+getat
+depth
+pfolder
+getdepth
+pfolder
+getdisplayname
+str
+depth
+depth
+depth
+memset
+prefix
+depth
+prefix
+depth
+ifdef
+mapidebug
+ansistr
+tonewcstring
+str
+mapitrace
+prefix
+ansistr
+nscrt
+free
+ansistr
+endif
+pfolder
+getfilepath
+str
+ifdef
+mapidebug
+ansistr
+tonewcstring
+str
+mapitrace
+depth
+filepath
+pfolder
+getdepth
+ansistr
+nscrt
+free
+ansistr
+endif
+mapitrace
+cmapifolder
+cmapifolder
+mobjecttype
+mapifolder
+mcbeid
+mlpeid
+mdepth
+mdoimport
+true
+cmapifolder
+cmapifolder
+prunichar
+pdisplayname
+ulong
+cbeid
+lpentryid
+lpeid
+depth
+long
+otype
+mcbeid
+mlpeid
+setdisplayname
+pdisplayname
+setentryid
+cbeid
+lpeid
+setdepth
+depth
+setobjecttype
+otype
+setdoimport
+true
+cmapifolder
+cmapifolder
+cmapifolder
+pcopyfrom
+mlpeid
+mcbeid
+setdoimport
+pcopyfrom
+getdoimport
+setdisplayname
+pcopyfrom
+mdisplayname
+get
+setobjecttype
+pcopyfrom
+getobjecttype
+setentryid
+pcopyfrom
+getcbentryid
+pcopyfrom
+getentryid
+setdepth
+pcopyfrom
+getdepth
+setfilepath
+pcopyfrom
+mmailfilepath
+get
+cmapifolder
+cmapifolder
+mlpeid
+mlpeid
+cmapifolder
+setentryid
+ulong
+cbeid
+lpentryid
+lpeid
+mlpeid
+mlpeid
+mlpeid
+mcbeid
+cbeid
+cbeid
+mlpeid
+byte
+cbeid
+memcpy
+mlpeid
+lpeid
+cbeid
+cmsgstore
+cmsgstore
+ulong
+cbeid
+lpentryid
+lpeid
+mlpeid
+mlpmdb
+setentryid
+cbeid
+lpeid
+cmsgstore
+cmsgstore
+mlpeid
+mlpeid
+mlpmdb
+ulong
+flags
+logoffnowait
+hresult
+hr
+mlpmdb
+storelogoff
+flags
+mlpmdb
+release
+mlpmdb
+cmsgstore
+setentryid
+ulong
+cbeid
+lpentryid
+lpeid
+hresult
+hr
+mlpeid
+mlpeid
+mlpeid
+cbeid
+mlpeid
+byte
+cbeid
+memcpy
+mlpeid
+lpeid
+cbeid
+mcbeid
+cbeid
+mlpmdb
+ulong
+flags
+logoffnowait
+hr
+mlpmdb
+storelogoff
+flags
+mlpmdb
+release
+mlpmdb
+bool
+cmsgstore
+open
+lpmapisession
+psession
+lpmdb
+ppmdb
+mlpmdb
+ppmdb
+ppmdb
+mlpmdb
+true
+bool
+bresult
+true
+hresult
+hr
+psession
+openmsgstore
+mcbeid
+lpentryid
+mlpeid
+mdbnomail
+mlpmdb
+hrfailed
+hr
+mlpmdb
+mapitrace
+openmsgstore
+failed
+lx
+hr
+hr
+bresult
+false
+ppmdb
+ppmdb
+mlpmdb
+bresult
+cmapifoldercontents
+cmapifoldercontents
+lpmdb
+lpmdb
+ulong
+cbeid
+lpentryid
+lpeid
+mlpmdb
+lpmdb
+mfcbeid
+cbeid
+mflpeid
+byte
+cbeid
+memcpy
+mflpeid
+lpeid
+cbeid
+mcount
+mitercount
+mfailure
+false
+mlasterror
+mlpfolder
+mlptable
+mlastlpeid
+mlastcbeid
+cmapifoldercontents
+cmapifoldercontents
+mlastlpeid
+mlastlpeid
+mflpeid
+mlptable
+mlptable
+release
+mlpfolder
+mlpfolder
+release
+bool
+cmapifoldercontents
+setupiter
+ulong
+ulobjtype
+hresult
+hr
+hr
+mlpmdb
+openentry
+mfcbeid
+lpentryid
+mflpeid
+ulobjtype
+lpunknown
+mlpfolder
+failed
+hr
+mlpfolder
+mlpfolder
+mlasterror
+hr
+mapitrace
+cmapifoldercontents
+openentry
+failed
+lx
+hr
+hr
+false
+ulobjtype
+mapifolder
+mlasterror
+mapitrace
+cmapifoldercontents
+bad
+object
+type
+folder
+false
+hr
+mlpfolder
+getcontentstable
+mlptable
+failed
+hr
+mlptable
+mlasterror
+hr
+mlptable
+mapitrace
+cmapifoldercontents
+getcontentstable
+failed
+lx
+hr
+hr
+false
+hr
+mlptable
+getrowcount
+mcount
+failed
+hr
+mlasterror
+hr
+mapitrace
+cmapifoldercontents
+getrowcount
+failed
+false
+hr
+mlptable
+setcolumns
+lpsproptagarray
+ptaeid
+failed
+hr
+mlasterror
+hr
+mapitrace
+cmapifoldercontents
+setcolumns
+failed
+lx
+hr
+hr
+false
+hr
+mlptable
+seekrow
+bookmarkbeginning
+failed
+hr
+mlasterror
+hr
+mapitrace
+cmapifoldercontents
+seekrow
+failed
+lx
+hr
+hr
+false
+true
+bool
+cmapifoldercontents
+getnext
+ulong
+pcbeid
+lpentryid
+ppeid
+ulong
+potype
+bool
+pdone
+pdone
+false
+mfailure
+false
+mlpfolder
+setupiter
+mfailure
+true
+false
+mcount
+pdone
+true
+true
+cnumrows
+lpsrowset
+lprow
+hresult
+hr
+mlptable
+queryrows
+lprow
+hrfailed
+hr
+mlasterror
+hr
+mfailure
+true
+mapitrace
+cmapifoldercontents
+queryrows
+failed
+lx
+hr
+hr
+false
+lprow
+cnumrows
+lprow
+crows
+cnumrows
+lpentryid
+lpeid
+lpentryid
+lprow
+arow
+lpprops
+ieidprentryid
+value
+bin
+lpb
+ulong
+cbeid
+lprow
+arow
+lpprops
+ieidprentryid
+value
+bin
+cb
+ulong
+otype
+lprow
+arow
+lpprops
+ieidprobjecttype
+value
+ul
+mlastcbeid
+cbeid
+mlastlpeid
+mlastlpeid
+mlastlpeid
+byte
+cbeid
+mlastcbeid
+cbeid
+memcpy
+mlastlpeid
+lpeid
+cbeid
+ppeid
+lpentryid
+mlastlpeid
+pcbeid
+cbeid
+potype
+otype
+pdone
+true
+cmapiapi
+freeprows
+lprow
+pdone
+true
+true
\ No newline at end of file
@@ -0,0 +1,1346 @@
+nscore
+time
+nsstring
+nsfilespec
+mapidbglog
+mapiapi
+mapimessage
+mapimimetypes
+lpmapiallocatebuffer
+gpmapiallocatebuffer
+lpmapifreebuffer
+gpmapifreebuffer
+pcs
+kwhitespace
+sfromline
+from
+sfromdate
+mon
+jan
+sdaysofweek
+sun
+mon
+tue
+wed
+thu
+fri
+sat
+smonths
+jan
+feb
+mar
+apr
+may
+jun
+jul
+aug
+sep
+oct
+nov
+dec
+cmapimessage
+cmapimessage
+lpmessage
+lpmsg
+mlpmsg
+lpmsg
+mpattachtable
+mbmimeencoding
+false
+mbmimeversion
+false
+mownsattachfile
+false
+mwhitespace
+kwhitespace
+cmapimessage
+cmapimessage
+mpattachtable
+mpattachtable
+release
+mlpmsg
+mlpmsg
+release
+cleartempattachfile
+cmapimessage
+formatdatetime
+systemtime
+tm
+nscstring
+bool
+includetz
+offset
+timezone
+sdaysofweek
+tm
+wdayofweek
+appendint
+print
+tm
+wday
+smonths
+tm
+wmonth
+appendint
+print
+tm
+wyear
+val
+tm
+whour
+val
+appendint
+print
+val
+val
+tm
+wminute
+val
+appendint
+print
+val
+val
+tm
+wsecond
+val
+appendint
+print
+val
+includetz
+offset
+offset
+offset
+val
+offset
+val
+appendint
+print
+val
+val
+offset
+val
+appendint
+print
+val
+cmapimessage
+buildheaders
+mheaders
+truncate
+addheader
+mheaders
+prdisplayto
+to
+addheader
+mheaders
+prdisplaycc
+cc
+addheader
+mheaders
+prdisplaybcc
+bcc
+adddate
+mheaders
+addsubject
+mheaders
+addfrom
+mheaders
+bool
+cmapimessage
+addheader
+nscstring
+str
+ulong
+tag
+pprefix
+nscstring
+value
+lpspropvalue
+pval
+cmapiapi
+getmapiproperty
+mlpmsg
+tag
+cmapiapi
+getstringfromprop
+pval
+value
+value
+isempty
+str
+trim
+kwhitespace
+prfalse
+prtrue
+str
+isempty
+str
+xd
+xa
+str
+pprefix
+str
+value
+true
+false
+cmapimessage
+addsubject
+nscstring
+str
+addheader
+str
+prsubject
+subject
+cmapimessage
+addfrom
+nscstring
+str
+addheader
+str
+prsendername
+from
+addheader
+str
+prsenderemailaddress
+from
+cmapimessage
+adddate
+nscstring
+str
+lpspropvalue
+pval
+cmapiapi
+getmapiproperty
+mlpmsg
+prmessagedeliverytime
+pval
+pval
+cmapiapi
+getmapiproperty
+mlpmsg
+prcreationtime
+pval
+systemtime
+st
+filetimetosystemtime
+pval
+value
+ft
+st
+cmapiapi
+mapifreebuffer
+pval
+str
+trim
+kwhitespace
+prfalse
+prtrue
+str
+isempty
+str
+xd
+xa
+str
+date
+formatdatetime
+st
+str
+cmapimessage
+buildfromline
+mfromline
+sfromline
+lpspropvalue
+pval
+cmapiapi
+getmapiproperty
+mlpmsg
+prcreationtime
+pval
+systemtime
+st
+filetimetosystemtime
+pval
+value
+ft
+st
+cmapiapi
+mapifreebuffer
+pval
+formatdatetime
+st
+mfromline
+false
+mfromline
+sfromdate
+mfromline
+xd
+xa
+bool
+cmapimessage
+fetchheaders
+lpspropvalue
+pval
+cmapiapi
+getmapiproperty
+mlpmsg
+prtransportmessageheaders
+pval
+cmapiapi
+islargeproperty
+pval
+mheaders
+truncate
+cmapiapi
+getlargestringproperty
+mlpmsg
+prtransportmessageheaders
+mheaders
+pval
+proptype
+pval
+ulproptag
+pttstring
+pval
+value
+lpsz
+pval
+value
+lpsz
+mheaders
+pval
+value
+lpsz
+mheaders
+truncate
+buildheaders
+pval
+cmapiapi
+mapifreebuffer
+pval
+mfromline
+truncate
+needsfromline
+buildfromline
+mfromline
+isempty
+mapidumpstring
+mfromline
+mapidumpstring
+mheaders
+mapitrace
+processheaders
+mheaders
+isempty
+mbhassubject
+addsubject
+mheaders
+mbhasfrom
+addfrom
+mheaders
+mbhasdate
+adddate
+mheaders
+mheaders
+trim
+kwhitespace
+prfalse
+prtrue
+mheaders
+xd
+xa
+ifdef
+debug
+endif
+mheaders
+isempty
+bool
+cmapimessage
+needsfromline
+nscstring
+mheaders
+left
+equals
+from
+false
+true
+bool
+cmapimessage
+ismultipart
+nscstring
+left
+mmimecontenttype
+left
+left
+left
+equals
+nsliteralcstring
+multipart
+nscaseinsensitivecstringcomparator
+true
+false
+cmapimessage
+generateboundary
+mmimeboundary
+nsimportboundary
+pruint
+gettickcount
+nscstring
+hex
+hex
+appendint
+print
+mmimeboundary
+hex
+mmimeboundary
+bool
+cmapimessage
+getattachfileloc
+nsifilespec
+ploc
+mattachpath
+isempty
+false
+ploc
+setnativepath
+mattachpath
+get
+mownsattachfile
+false
+true
+cmapimessage
+processheaderline
+nscstring
+line
+pruint
+len
+start
+nscstring
+tstr
+nscstring
+left
+nscstring
+left
+nscstring
+left
+nscstring
+left
+line
+left
+left
+line
+left
+left
+line
+left
+left
+line
+left
+left
+left
+equals
+nsliteralcstring
+mime
+version
+nscaseinsensitivecstringcomparator
+mbmimeversion
+true
+left
+equals
+nsliteralcstring
+content
+type
+nscaseinsensitivecstringcomparator
+len
+len
+line
+length
+isspace
+line
+charat
+len
+len
+start
+len
+len
+line
+length
+line
+charat
+len
+len
+line
+mid
+mmimecontenttype
+start
+len
+start
+len
+bool
+haveb
+bool
+havec
+len
+line
+length
+haveb
+false
+havec
+false
+len
+line
+length
+isspace
+line
+charat
+len
+len
+start
+len
+len
+line
+length
+line
+charat
+len
+len
+len
+start
+line
+mid
+tstr
+start
+len
+start
+tstr
+equals
+nsliteralcstring
+boundary
+nscaseinsensitivecstringcomparator
+haveb
+true
+tstr
+equals
+nsliteralcstring
+charset
+nscaseinsensitivecstringcomparator
+havec
+true
+len
+len
+line
+length
+isspace
+line
+charat
+len
+len
+len
+line
+length
+line
+charat
+len
+len
+bool
+slash
+false
+tstr
+truncate
+len
+line
+length
+slash
+slash
+false
+tstr
+append
+line
+charat
+len
+line
+charat
+len
+line
+charat
+len
+tstr
+append
+line
+charat
+len
+slash
+true
+len
+len
+haveb
+mmimeboundary
+tstr
+haveb
+false
+havec
+mmimecharset
+tstr
+havec
+false
+tstr
+truncate
+len
+line
+length
+line
+charat
+len
+tstr
+append
+line
+charat
+len
+len
+len
+haveb
+tstr
+trim
+kwhitespace
+mmimeboundary
+tstr
+havec
+tstr
+trim
+kwhitespace
+mmimecharset
+tstr
+left
+equals
+nsliteralcstring
+content
+transfer
+encoding
+nscaseinsensitivecstringcomparator
+mbmimeencoding
+true
+left
+equals
+nsliteralcstring
+subject
+nscaseinsensitivecstringcomparator
+mbhassubject
+true
+left
+equals
+nsliteralcstring
+from
+nscaseinsensitivecstringcomparator
+mbhasfrom
+true
+left
+equals
+nsliteralcstring
+date
+nscaseinsensitivecstringcomparator
+mbhasdate
+true
+cmapimessage
+processheaders
+mbhassubject
+false
+mbhasfrom
+false
+mbhasdate
+false
+pcs
+pchar
+pcs
+mheaders
+get
+start
+len
+hdrlen
+strlen
+pchar
+nscstring
+line
+nscstring
+mid
+pchar
+pchar
+xd
+pchar
+xa
+pchar
+pchar
+mheaders
+mid
+mid
+start
+len
+line
+mid
+processheaderline
+line
+line
+truncate
+pchar
+start
+len
+start
+len
+pchar
+len
+start
+hdrlen
+line
+assign
+mheaders
+get
+start
+processheaderline
+line
+mmimecontenttype
+isempty
+mmimeboundary
+isempty
+mmimecharset
+isempty
+mapitrace
+tdecoded
+mime
+content
+type
+pcs
+mmimecontenttype
+mapitrace
+tdecoded
+mime
+boundary
+pcs
+mmimeboundary
+mapitrace
+tdecoded
+mime
+charset
+pcs
+mmimecharset
+bool
+cmapimessage
+fetchbody
+mbodyishtml
+false
+mbody
+truncate
+lpspropvalue
+pval
+cmapiapi
+getmapiproperty
+mlpmsg
+prbody
+pval
+pval
+cmapiapi
+getmapiproperty
+mlpmsg
+xe
+pval
+cmapiapi
+islargeproperty
+pval
+cmapiapi
+getlargestringproperty
+mlpmsg
+xe
+mbody
+pval
+proptype
+pval
+ulproptag
+pttstring
+pval
+value
+lpsz
+pval
+value
+lpsz
+mbody
+pval
+value
+lpsz
+mbody
+isempty
+mbodyishtml
+true
+pval
+cmapiapi
+islargeproperty
+pval
+cmapiapi
+getlargestringproperty
+mlpmsg
+prbody
+mbody
+pval
+proptype
+pval
+ulproptag
+pttstring
+pval
+value
+lpsz
+pval
+value
+lpsz
+mbody
+pval
+value
+lpsz
+pval
+cmapiapi
+mapifreebuffer
+pval
+mapidumpstring
+mbody
+mapitrace
+true
+ieidprattachnum
+ieidattachmax
+sizedsproptagarray
+ieidattachmax
+ptaeid
+ieidattachmax
+prattachnum
+cmapimessage
+countattachments
+mattachnums
+removeall
+lpspropvalue
+pval
+cmapiapi
+getmapiproperty
+mlpmsg
+prhasattach
+bool
+has
+true
+pval
+proptype
+pval
+ulproptag
+ptboolean
+has
+pval
+value
+pval
+cmapiapi
+mapifreebuffer
+pval
+has
+hresult
+hr
+lpmapitable
+ptable
+hr
+mlpmsg
+getattachmenttable
+ptable
+failed
+hr
+mpattachtable
+ptable
+iterateattachtable
+mattachnums
+getsize
+bool
+cmapimessage
+iterateattachtable
+lpmapitable
+lptable
+mpattachtable
+ulong
+rowcount
+hresult
+hr
+lptable
+getrowcount
+rowcount
+rowcount
+true
+hr
+lptable
+setcolumns
+lpsproptagarray
+ptaeid
+failed
+hr
+mapitrace
+setcolumns
+attachment
+table
+failed
+lx
+hr
+hr
+false
+hr
+lptable
+seekrow
+bookmarkbeginning
+failed
+hr
+mapitrace
+seekrow
+attachment
+table
+failed
+lx
+hr
+hr
+false
+cnumrows
+lpsrowset
+lprow
+bool
+bresult
+true
+lprow
+hr
+lptable
+queryrows
+lprow
+hrfailed
+hr
+mapitrace
+queryrows
+attachment
+table
+failed
+lx
+hr
+hr
+bresult
+false
+lprow
+cnumrows
+lprow
+crows
+cnumrows
+long
+anum
+lprow
+arow
+lpprops
+ieidprattachnum
+value
+mattachnums
+add
+pruint
+anum
+mapitrace
+attachment
+found
+anum
+cmapiapi
+freeprows
+lprow
+succeeded
+hr
+cnumrows
+lprow
+bresult
+cmapimessage
+cleartempattachfile
+mownsattachfile
+mattachpath
+isempty
+nsfilespec
+spec
+mattachpath
+get
+spec
+delete
+prfalse
+mownsattachfile
+false
+mattachpath
+truncate
+bool
+cmapimessage
+copybinattachtofile
+lpattach
+lpattach
+lpstream
+lpstreamfile
+tpath
+dword
+len
+len
+gettemppath
+tpath
+len
+len
+strcpy
+tpath
+tpath
+len
+strcat
+tpath
+mownsattachfile
+false
+mattachpath
+truncate
+hresult
+hr
+cmapiapi
+openstreamonfile
+gpmapiallocatebuffer
+gpmapifreebuffer
+stgmreadwrite
+stgmcreate
+sofuniquefilename
+tpath
+lpstreamfile
+hrfailed
+hr
+mapitrace
+error
+openstreamonfile
+failed
+temp
+path
+tpath
+false
+mattachpath
+tpath
+mapitrace
+attachment
+extracted
+to
+temp
+file
+mattachpath
+bool
+bresult
+true
+lpstream
+lpattachstream
+hr
+lpattach
+openproperty
+prattachdatabin
+iidistream
+lpunknown
+lpattachstream
+hrfailed
+hr
+mapitrace
+error
+openproperty
+failed
+prattachdatabin
+lpattachstream
+bresult
+false
+statstg
+st
+hr
+lpattachstream
+stat
+st
+statflagnoname
+hrfailed
+hr
+mapitrace
+error
+stat
+failed
+attachment
+stream
+bresult
+false
+hr
+lpattachstream
+copyto
+lpstreamfile
+st
+cbsize
+hrfailed
+hr
+mapitrace
+error
+attach
+stream
+copyto
+temp
+file
+failed
+bresult
+false
+lpattachstream
+lpattachstream
+release
+lpstreamfile
+release
+bresult
+nsfilespec
+spec
+mattachpath
+get
+spec
+delete
+prfalse
+mownsattachfile
+true
+bresult
+bool
+cmapimessage
+getattachmentinfo
+idx
+cleartempattachfile
+bool
+bresult
+true
+idx
+idx
+mattachnums
+getsize
+false
+dword
+anum
+mattachnums
+getat
+idx
+lpattach
+lpattach
+hresult
+hr
+mlpmsg
+openattach
+anum
+lpattach
+hrfailed
+hr
+mapitrace
+attachment
+error
+unable
+to
+open
+attachment
+lx
+idx
+hr
+false
+lpspropvalue
+pval
+pval
+cmapiapi
+getmapiproperty
+lpattach
+prattachmimetag
+pval
+cmapiapi
+getstringfromprop
+pval
+mattachmimetype
+mattachmimetype
+truncate
+pval
+cmapiapi
+getmapiproperty
+lpattach
+prattachmethod
+pval
+long
+amethod
+cmapiapi
+getlongfromprop
+pval
+amethod
+attachbyrefonly
+amethod
+attachbyreference
+amethod
+attachbyrefresolve
+mattachpath
+truncate
+pval
+cmapiapi
+getmapiproperty
+lpattach
+prattachpathname
+pval
+cmapiapi
+getstringfromprop
+pval
+mattachpath
+mapitrace
+attachment
+by
+ref
+idx
+mattachpath
+mownsattachfile
+false
+amethod
+attachbyvalue
+mapitrace
+attachment
+by
+value
+idx
+bresult
+copybinattachtofile
+lpattach
+amethod
+attachole
+mapitrace
+attachment
+by
+ole
+yuck
+idx
+amethod
+attachembeddedmsg
+mapitrace
+attachment
+by
+embedded
+message
+idx
+mapitrace
+attachment
+unknown
+attachment
+method
+lx
+idx
+amethod
+bresult
+false
+bresult
+false
+nscstring
+fname
+fext
+pval
+cmapiapi
+getmapiproperty
+lpattach
+prattachfilename
+pval
+cmapiapi
+getstringfromprop
+pval
+fname
+pval
+cmapiapi
+getmapiproperty
+lpattach
+prattachextension
+pval
+cmapiapi
+getstringfromprop
+pval
+fext
+pval
+cmapiapi
+getmapiproperty
+lpattach
+prattachsize
+sz
+pval
+sz
+cmapiapi
+getlongfromprop
+pval
+mapitrace
+mime
+type
+mattachmimetype
+mapitrace
+file
+name
+extension
+fname
+fext
+mapitrace
+size
+ld
+sz
+fext
+isempty
+idx
+fname
+rfindchar
+idx
+fname
+right
+fext
+fname
+length
+idx
+fname
+rfindchar
+fext
+isempty
+fname
+fname
+fext
+mattachfilename
+fname
+mattachmimetype
+isempty
+pruint
+ptype
+fext
+isempty
+ptype
+cmimetypes
+getmimetype
+fext
+ptype
+mattachmimetype
+pcs
+ptype
+mattachmimetype
+application
+octet
+stream
+pval
+cmapiapi
+getmapiproperty
+lpattach
+prattachtransportname
+pval
+cmapiapi
+getstringfromprop
+pval
+fname
+mapitrace
+transport
+name
+fname
+lpattach
+release
+bresult
+nssimpleuintarray
+allocate
+mused
+mallocated
+mpdata
+mpdata
+pruint
+mgrowby
+mallocated
+mgrowby
+mallocated
+mgrowby
+pruint
+pdata
+pruint
+mallocated
+memcpy
+pdata
+mpdata
+mallocated
+mgrowby
+pruint
+mpdata
+mpdata
+pdata
\ No newline at end of file
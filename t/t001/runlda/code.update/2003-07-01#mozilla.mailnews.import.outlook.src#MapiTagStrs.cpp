@@ -0,0 +1,854 @@
+pracknowledgementmode
+pracknowledgementmode
+pralternaterecipientallowed
+pralternaterecipientallowed
+prauthorizingusers
+prauthorizingusers
+prautoforwardcomment
+prautoforwardcomment
+prautoforwarded
+prautoforwarded
+prcontentconfidentialityalgorithmid
+prcontentconfidentialityalgorithmid
+prcontentcorrelator
+prcontentcorrelator
+prcontentidentifier
+prcontentidentifier
+prcontentlength
+prcontentlength
+prcontentreturnrequested
+prcontentreturnrequested
+prconversationkey
+prconversationkey
+prconversioneits
+prconversioneits
+prconversionwithlossprohibited
+prconversionwithlossprohibited
+prconvertedeits
+prconvertedeits
+prdeferreddeliverytime
+prdeferreddeliverytime
+prdelivertime
+prdelivertime
+prdiscardreason
+prdiscardreason
+prdisclosureofrecipients
+prdisclosureofrecipients
+prdlexpansionhistory
+prdlexpansionhistory
+prdlexpansionprohibited
+prdlexpansionprohibited
+prexpirytime
+prexpirytime
+primplicitconversionprohibited
+primplicitconversionprohibited
+primportance
+primportance
+pripmid
+pripmid
+prlatestdeliverytime
+prlatestdeliverytime
+prmessageclass
+prmessageclass
+prmessagedeliveryid
+prmessagedeliveryid
+prmessagesecuritylabel
+prmessagesecuritylabel
+probsoletedipms
+probsoletedipms
+proriginallyintendedrecipientname
+proriginallyintendedrecipientname
+proriginaleits
+proriginaleits
+proriginatorcertificate
+proriginatorcertificate
+proriginatordeliveryreportrequested
+proriginatordeliveryreportrequested
+proriginatorreturnaddress
+proriginatorreturnaddress
+prparentkey
+prparentkey
+prpriority
+prpriority
+prorigincheck
+prorigincheck
+prproofofsubmissionrequested
+prproofofsubmissionrequested
+prreadreceiptrequested
+prreadreceiptrequested
+prreceipttime
+prreceipttime
+prrecipientreassignmentprohibited
+prrecipientreassignmentprohibited
+prredirectionhistory
+prredirectionhistory
+prrelatedipms
+prrelatedipms
+proriginalsensitivity
+proriginalsensitivity
+prlanguages
+prlanguages
+prreplytime
+prreplytime
+prreporttag
+prreporttag
+prreporttime
+prreporttime
+prreturnedipm
+prreturnedipm
+prsecurity
+prsecurity
+princompletecopy
+princompletecopy
+prsensitivity
+prsensitivity
+prsubject
+prsubject
+prsubjectipm
+prsubjectipm
+prclientsubmittime
+prclientsubmittime
+prreportname
+prreportname
+prsentrepresentingsearchkey
+prsentrepresentingsearchkey
+prxcontenttype
+prxcontenttype
+prsubjectprefix
+prsubjectprefix
+prnonreceiptreason
+prnonreceiptreason
+prreceivedbyentryid
+prreceivedbyentryid
+prreceivedbyname
+prreceivedbyname
+prsentrepresentingentryid
+prsentrepresentingentryid
+prsentrepresentingname
+prsentrepresentingname
+prrcvdrepresentingentryid
+prrcvdrepresentingentryid
+prrcvdrepresentingname
+prrcvdrepresentingname
+prreportentryid
+prreportentryid
+prreadreceiptentryid
+prreadreceiptentryid
+prmessagesubmissionid
+prmessagesubmissionid
+prprovidersubmittime
+prprovidersubmittime
+proriginalsubject
+proriginalsubject
+prdiscval
+prdiscval
+prorigmessageclass
+prorigmessageclass
+proriginalauthorentryid
+proriginalauthorentryid
+proriginalauthorname
+proriginalauthorname
+proriginalsubmittime
+proriginalsubmittime
+prreplyrecipiententries
+prreplyrecipiententries
+prreplyrecipientnames
+prreplyrecipientnames
+prreceivedbysearchkey
+prreceivedbysearchkey
+prrcvdrepresentingsearchkey
+prrcvdrepresentingsearchkey
+prreadreceiptsearchkey
+prreadreceiptsearchkey
+prreportsearchkey
+prreportsearchkey
+proriginaldeliverytime
+proriginaldeliverytime
+proriginalauthorsearchkey
+proriginalauthorsearchkey
+prmessagetome
+prmessagetome
+prmessageccme
+prmessageccme
+prmessagerecipme
+prmessagerecipme
+proriginalsendername
+proriginalsendername
+proriginalsenderentryid
+proriginalsenderentryid
+proriginalsendersearchkey
+proriginalsendersearchkey
+proriginalsentrepresentingname
+proriginalsentrepresentingname
+proriginalsentrepresentingentryid
+proriginalsentrepresentingentryid
+proriginalsentrepresentingsearchkey
+proriginalsentrepresentingsearchkey
+prstartdate
+prstartdate
+prenddate
+prenddate
+prownerapptid
+prownerapptid
+prresponserequested
+prresponserequested
+prsentrepresentingaddrtype
+prsentrepresentingaddrtype
+prsentrepresentingemailaddress
+prsentrepresentingemailaddress
+proriginalsenderaddrtype
+proriginalsenderaddrtype
+proriginalsenderemailaddress
+proriginalsenderemailaddress
+proriginalsentrepresentingaddrtype
+proriginalsentrepresentingaddrtype
+proriginalsentrepresentingemailaddress
+proriginalsentrepresentingemailaddress
+prconversationtopic
+prconversationtopic
+prconversationindex
+prconversationindex
+proriginaldisplaybcc
+proriginaldisplaybcc
+proriginaldisplaycc
+proriginaldisplaycc
+proriginaldisplayto
+proriginaldisplayto
+prreceivedbyaddrtype
+prreceivedbyaddrtype
+prreceivedbyemailaddress
+prreceivedbyemailaddress
+prrcvdrepresentingaddrtype
+prrcvdrepresentingaddrtype
+prrcvdrepresentingemailaddress
+prrcvdrepresentingemailaddress
+proriginalauthoraddrtype
+proriginalauthoraddrtype
+proriginalauthoremailaddress
+proriginalauthoremailaddress
+proriginallyintendedrecipaddrtype
+proriginallyintendedrecipaddrtype
+proriginallyintendedrecipemailaddress
+proriginallyintendedrecipemailaddress
+prtransportmessageheaders
+prtransportmessageheaders
+prdelegation
+prdelegation
+prtnefcorrelationkey
+prtnefcorrelationkey
+prbody
+prbody
+prreporttext
+prreporttext
+proriginatoranddlexpansionhistory
+proriginatoranddlexpansionhistory
+prreportingdlname
+prreportingdlname
+prreportingmtacertificate
+prreportingmtacertificate
+prrtfsyncbodycrc
+prrtfsyncbodycrc
+prrtfsyncbodycount
+prrtfsyncbodycount
+prrtfsyncbodytag
+prrtfsyncbodytag
+prrtfcompressed
+prrtfcompressed
+prrtfsyncprefixcount
+prrtfsyncprefixcount
+prrtfsynctrailingcount
+prrtfsynctrailingcount
+proriginallyintendedrecipentryid
+proriginallyintendedrecipentryid
+prcontentintegritycheck
+prcontentintegritycheck
+prexplicitconversion
+prexplicitconversion
+pripmreturnrequested
+pripmreturnrequested
+prmessagetoken
+prmessagetoken
+prndrreasoncode
+prndrreasoncode
+prndrdiagcode
+prndrdiagcode
+prnonreceiptnotificationrequested
+prnonreceiptnotificationrequested
+prdeliverypoint
+prdeliverypoint
+proriginatornondeliveryreportrequested
+proriginatornondeliveryreportrequested
+proriginatorrequestedalternaterecipient
+proriginatorrequestedalternaterecipient
+prphysicaldeliverybureaufaxdelivery
+prphysicaldeliverybureaufaxdelivery
+prphysicaldeliverymode
+prphysicaldeliverymode
+prphysicaldeliveryreportrequest
+prphysicaldeliveryreportrequest
+prphysicalforwardingaddress
+prphysicalforwardingaddress
+prphysicalforwardingaddressrequested
+prphysicalforwardingaddressrequested
+prphysicalforwardingprohibited
+prphysicalforwardingprohibited
+prphysicalrenditionattributes
+prphysicalrenditionattributes
+prproofofdelivery
+prproofofdelivery
+prproofofdeliveryrequested
+prproofofdeliveryrequested
+prrecipientcertificate
+prrecipientcertificate
+prrecipientnumberforadvice
+prrecipientnumberforadvice
+prrecipienttype
+prrecipienttype
+prregisteredmailtype
+prregisteredmailtype
+prreplyrequested
+prreplyrequested
+prrequesteddeliverymethod
+prrequesteddeliverymethod
+prsenderentryid
+prsenderentryid
+prsendername
+prsendername
+prsupplementaryinfo
+prsupplementaryinfo
+prtypeofmtsuser
+prtypeofmtsuser
+prsendersearchkey
+prsendersearchkey
+prsenderaddrtype
+prsenderaddrtype
+prsenderemailaddress
+prsenderemailaddress
+prcurrentversion
+prcurrentversion
+prdeleteaftersubmit
+prdeleteaftersubmit
+prdisplaybcc
+prdisplaybcc
+prdisplaycc
+prdisplaycc
+prdisplayto
+prdisplayto
+prparentdisplay
+prparentdisplay
+prmessagedeliverytime
+prmessagedeliverytime
+prmessageflags
+prmessageflags
+prmessagesize
+prmessagesize
+prparententryid
+prparententryid
+prsentmailentryid
+prsentmailentryid
+prcorrelate
+prcorrelate
+prcorrelatemtsid
+prcorrelatemtsid
+prdiscretevalues
+prdiscretevalues
+prresponsibility
+prresponsibility
+prspoolerstatus
+prspoolerstatus
+prtransportstatus
+prtransportstatus
+prmessagerecipients
+prmessagerecipients
+prmessageattachments
+prmessageattachments
+prsubmitflags
+prsubmitflags
+prrecipientstatus
+prrecipientstatus
+prtransportkey
+prtransportkey
+prmsgstatus
+prmsgstatus
+prmessagedownloadtime
+prmessagedownloadtime
+prcreationversion
+prcreationversion
+prmodifyversion
+prmodifyversion
+prhasattach
+prhasattach
+prbodycrc
+prbodycrc
+prnormalizedsubject
+prnormalizedsubject
+prrtfinsync
+prrtfinsync
+prattachsize
+prattachsize
+prattachnum
+prattachnum
+prpreprocess
+prpreprocess
+proriginatingmtacertificate
+proriginatingmtacertificate
+prproofofsubmission
+prproofofsubmission
+prentryid
+prentryid
+probjecttype
+probjecttype
+pricon
+pricon
+prminiicon
+prminiicon
+prstoreentryid
+prstoreentryid
+prstorerecordkey
+prstorerecordkey
+prrecordkey
+prrecordkey
+prmappingsignature
+prmappingsignature
+praccesslevel
+praccesslevel
+prinstancekey
+prinstancekey
+prrowtype
+prrowtype
+praccess
+praccess
+prrowid
+prrowid
+prdisplayname
+prdisplayname
+praddrtype
+praddrtype
+premailaddress
+premailaddress
+prcomment
+prcomment
+prdepth
+prdepth
+prproviderdisplay
+prproviderdisplay
+prcreationtime
+prcreationtime
+prlastmodificationtime
+prlastmodificationtime
+prresourceflags
+prresourceflags
+prproviderdllname
+prproviderdllname
+prsearchkey
+prsearchkey
+prprovideruid
+prprovideruid
+prproviderordinal
+prproviderordinal
+prformversion
+prformversion
+prformclsid
+prformclsid
+prformcontactname
+prformcontactname
+prformcategory
+prformcategory
+prformcategorysub
+prformcategorysub
+prformhostmap
+prformhostmap
+prformhidden
+prformhidden
+prformdesignername
+prformdesignername
+prformdesignerguid
+prformdesignerguid
+prformmessagebehavior
+prformmessagebehavior
+prdefaultstore
+prdefaultstore
+prstoresupportmask
+prstoresupportmask
+prstorestate
+prstorestate
+pripmsubtreesearchkey
+pripmsubtreesearchkey
+pripmoutboxsearchkey
+pripmoutboxsearchkey
+pripmwastebasketsearchkey
+pripmwastebasketsearchkey
+pripmsentmailsearchkey
+pripmsentmailsearchkey
+prmdbprovider
+prmdbprovider
+prreceivefoldersettings
+prreceivefoldersettings
+prvalidfoldermask
+prvalidfoldermask
+pripmsubtreeentryid
+pripmsubtreeentryid
+pripmoutboxentryid
+pripmoutboxentryid
+pripmwastebasketentryid
+pripmwastebasketentryid
+pripmsentmailentryid
+pripmsentmailentryid
+prviewsentryid
+prviewsentryid
+prcommonviewsentryid
+prcommonviewsentryid
+prfinderentryid
+prfinderentryid
+prcontainerflags
+prcontainerflags
+prfoldertype
+prfoldertype
+prcontentcount
+prcontentcount
+prcontentunread
+prcontentunread
+prcreatetemplates
+prcreatetemplates
+prdetailstable
+prdetailstable
+prsearch
+prsearch
+prselectable
+prselectable
+prsubfolders
+prsubfolders
+prstatus
+prstatus
+pranr
+pranr
+prcontentssortorder
+prcontentssortorder
+prcontainerhierarchy
+prcontainerhierarchy
+prcontainercontents
+prcontainercontents
+prfolderassociatedcontents
+prfolderassociatedcontents
+prdefcreatedl
+prdefcreatedl
+prdefcreatemailuser
+prdefcreatemailuser
+prcontainerclass
+prcontainerclass
+prcontainermodifyversion
+prcontainermodifyversion
+prabproviderid
+prabproviderid
+prdefaultviewentryid
+prdefaultviewentryid
+prassoccontentcount
+prassoccontentcount
+prattachmentxparameters
+prattachmentxparameters
+prattachdataobj
+prattachdataobj
+prattachdatabin
+prattachdatabin
+prattachencoding
+prattachencoding
+prattachextension
+prattachextension
+prattachfilename
+prattachfilename
+prattachmethod
+prattachmethod
+prattachlongfilename
+prattachlongfilename
+prattachpathname
+prattachpathname
+prattachrendering
+prattachrendering
+prattachtag
+prattachtag
+prrenderingposition
+prrenderingposition
+prattachtransportname
+prattachtransportname
+prattachlongpathname
+prattachlongpathname
+prattachmimetag
+prattachmimetag
+prattachadditionalinfo
+prattachadditionalinfo
+prdisplaytype
+prdisplaytype
+prtemplateid
+prtemplateid
+prprimarycapability
+prprimarycapability
+prbitdisplayname
+prbitdisplayname
+praccount
+praccount
+pralternaterecipient
+pralternaterecipient
+prcallbacktelephonenumber
+prcallbacktelephonenumber
+prconversionprohibited
+prconversionprohibited
+prdiscloserecipients
+prdiscloserecipients
+prgeneration
+prgeneration
+prgivenname
+prgivenname
+prgovernmentidnumber
+prgovernmentidnumber
+prbusinesstelephonenumber
+prbusinesstelephonenumber
+profficetelephonenumber
+prhometelephonenumber
+prhometelephonenumber
+prinitials
+prinitials
+prkeyword
+prkeyword
+prlanguage
+prlanguage
+prlocation
+prlocation
+prmailpermission
+prmailpermission
+prmhscommonname
+prmhscommonname
+prorganizationalidnumber
+prorganizationalidnumber
+prsurname
+prsurname
+proriginalentryid
+proriginalentryid
+proriginaldisplayname
+proriginaldisplayname
+proriginalsearchkey
+proriginalsearchkey
+prpostaladdress
+prpostaladdress
+prcompanyname
+prcompanyname
+prtitle
+prtitle
+prdepartmentname
+prdepartmentname
+profficelocation
+profficelocation
+prprimarytelephonenumber
+prprimarytelephonenumber
+prbusinesstelephonenumber
+prbusinesstelephonenumber
+profficetelephonenumber
+prmobiletelephonenumber
+prmobiletelephonenumber
+prcellulartelephonenumber
+prradiotelephonenumber
+prradiotelephonenumber
+prcartelephonenumber
+prcartelephonenumber
+prothertelephonenumber
+prothertelephonenumber
+prtransmitabledisplayname
+prtransmitabledisplayname
+prpagertelephonenumber
+prpagertelephonenumber
+prbeepertelephonenumber
+prusercertificate
+prusercertificate
+prprimaryfaxnumber
+prprimaryfaxnumber
+prbusinessfaxnumber
+prbusinessfaxnumber
+prhomefaxnumber
+prhomefaxnumber
+prcountry
+prcountry
+prbusinessaddresscountry
+prlocality
+prlocality
+prbusinessaddresscity
+prstateorprovince
+prstateorprovince
+prbusinessaddressstateorprovince
+prstreetaddress
+prstreetaddress
+prbusinessaddressstreet
+prpostalcode
+prpostalcode
+prbusinessaddresspostalcode
+prpostofficebox
+prpostofficebox
+prbusinessaddresspostofficebox
+prtelexnumber
+prtelexnumber
+prisdnnumber
+prisdnnumber
+prassistanttelephonenumber
+prassistanttelephonenumber
+prhometelephonenumber
+prhometelephonenumber
+prassistant
+prassistant
+prsendrichinfo
+prsendrichinfo
+prweddinganniversary
+prweddinganniversary
+prbirthday
+prbirthday
+prhobbies
+prhobbies
+prmiddlename
+prmiddlename
+prdisplaynameprefix
+prdisplaynameprefix
+prprofession
+prprofession
+prpreferredbyname
+prpreferredbyname
+prspousename
+prspousename
+prcomputernetworkname
+prcomputernetworkname
+prcustomerid
+prcustomerid
+prttytddphonenumber
+prttytddphonenumber
+prftpsite
+prftpsite
+prgender
+prgender
+prmanagername
+prmanagername
+prnickname
+prnickname
+prpersonalhomepage
+prpersonalhomepage
+prbusinesshomepage
+prbusinesshomepage
+prcontactversion
+prcontactversion
+prcontactentryids
+prcontactentryids
+prcontactaddrtypes
+prcontactaddrtypes
+prcontactdefaultaddressindex
+prcontactdefaultaddressindex
+prcontactemailaddresses
+prcontactemailaddresses
+prcompanymainphonenumber
+prcompanymainphonenumber
+prchildrensnames
+prchildrensnames
+prhomeaddresscity
+prhomeaddresscity
+prhomeaddresscountry
+prhomeaddresscountry
+prhomeaddresspostalcode
+prhomeaddresspostalcode
+prhomeaddressstateorprovince
+prhomeaddressstateorprovince
+prhomeaddressstreet
+prhomeaddressstreet
+prhomeaddresspostofficebox
+prhomeaddresspostofficebox
+protheraddresscity
+protheraddresscity
+protheraddresscountry
+protheraddresscountry
+protheraddresspostalcode
+protheraddresspostalcode
+protheraddressstateorprovince
+protheraddressstateorprovince
+protheraddressstreet
+protheraddressstreet
+protheraddresspostofficebox
+protheraddresspostofficebox
+prstoreproviders
+prstoreproviders
+prabproviders
+prabproviders
+prtransportproviders
+prtransportproviders
+prdefaultprofile
+prdefaultprofile
+prabsearchpath
+prabsearchpath
+prabdefaultdir
+prabdefaultdir
+prabdefaultpab
+prabdefaultpab
+prfilteringhooks
+prfilteringhooks
+prservicename
+prservicename
+prservicedllname
+prservicedllname
+prserviceentryname
+prserviceentryname
+prserviceuid
+prserviceuid
+prserviceextrauids
+prserviceextrauids
+prservices
+prservices
+prservicesupportfiles
+prservicesupportfiles
+prservicedeletefiles
+prservicedeletefiles
+prabsearchpathupdate
+prabsearchpathupdate
+prprofilename
+prprofilename
+pridentitydisplay
+pridentitydisplay
+pridentityentryid
+pridentityentryid
+prresourcemethods
+prresourcemethods
+prresourcetype
+prresourcetype
+prstatuscode
+prstatuscode
+pridentitysearchkey
+pridentitysearchkey
+prownstoreentryid
+prownstoreentryid
+prresourcepath
+prresourcepath
+prstatusstring
+prstatusstring
+prxdeferreddeliverycancel
+prxdeferreddeliverycancel
+prheaderfolderentryid
+prheaderfolderentryid
+prremoteprogress
+prremoteprogress
+prremoteprogresstext
+prremoteprogresstext
+prremotevalidateok
+prremotevalidateok
+prcontrolflags
+prcontrolflags
+prcontrolstructure
+prcontrolstructure
+prcontroltype
+prcontroltype
+prdeltax
+prdeltax
+prdeltay
+prdeltay
+prxpos
+prxpos
+prypos
+prypos
+prcontrolid
+prcontrolid
+prinitialdetailspane
+prinitialdetailspane
+propidsecuremin
+propidsecuremin
+propidsecuremax
+propidsecuremax
\ No newline at end of file
@@ -0,0 +1,41 @@
+nsoutlookregutil
+outlookdebuglog
+byte
+nsoutlookregutil
+getvaluebytes
+hkey
+hkey
+pvaluename
+long
+err
+dword
+bufsz
+lpbyte
+pbytes
+err
+regqueryvalueex
+hkey
+pvaluename
+bufsz
+err
+errorsuccess
+pbytes
+byte
+bufsz
+err
+regqueryvalueex
+hkey
+pvaluename
+pbytes
+bufsz
+err
+errorsuccess
+pbytes
+pbytes
+pbytes
+nsoutlookregutil
+freevaluebytes
+byte
+pbytes
+pbytes
+pbytes
\ No newline at end of file
@@ -0,0 +1,1050 @@
+nscomptr
+nscore
+nsreadableutils
+nsoutlookimport
+nsicomponentmanager
+nsiservicemanager
+nsiimportservice
+nsoutlookregutil
+nsimsgaccountmanager
+nsimsgaccount
+nsiimportsettings
+nsoutlooksettings
+nsmsgbasecid
+nsmsgcompcid
+nsismtpservice
+nsismtpserver
+nsoutlookstringbundle
+outlookdebuglog
+nsipopincomingserver
+nsdefineiid
+kisupportsiid
+nsisupportsiid
+nsdefinecid
+kcomponentmanagercid
+nscomponentmanagercid
+outlooksettings
+hkey
+findaccountskey
+prbool
+doimport
+nsimsgaccount
+ppaccount
+prbool
+doimapserver
+nsimsgaccountmanager
+pmgr
+hkey
+hkey
+pservername
+nsimsgaccount
+ppaccount
+prbool
+dopopserver
+nsimsgaccountmanager
+pmgr
+hkey
+hkey
+pservername
+nsimsgaccount
+ppaccount
+setidentities
+nsimsgaccountmanager
+pmgr
+nsimsgaccount
+pacc
+hkey
+hkey
+prbool
+identitymatches
+nsimsgidentity
+pident
+pname
+pserver
+pemail
+preply
+pusername
+setsmtpserver
+nsimsgaccountmanager
+pmgr
+nsimsgaccount
+pacc
+pserver
+puser
+nsresult
+getaccountname
+hkey
+hkey
+defaultname
+nsstring
+acctname
+nsresult
+nsoutlooksettings
+create
+nsiimportsettings
+aimport
+nsprecondition
+aimport
+nsnull
+ptr
+aimport
+nserrornullpointer
+aimport
+nsoutlooksettings
+aimport
+nserroroutofmemory
+nsaddref
+aimport
+nsok
+nsoutlooksettings
+nsoutlooksettings
+nsoutlooksettings
+nsoutlooksettings
+nsimplisupports
+nsoutlooksettings
+nsiimportsettings
+nsimethodimp
+nsoutlooksettings
+autolocate
+prunichar
+description
+nsifilespec
+location
+prbool
+retval
+nsprecondition
+description
+nsnull
+ptr
+nsprecondition
+retval
+nsnull
+ptr
+description
+retval
+nserrornullpointer
+description
+nsoutlookstringbundle
+getstringbyid
+outlookimportname
+retval
+prfalse
+location
+location
+nsnull
+hkey
+key
+outlooksettings
+findaccountskey
+key
+nsnull
+retval
+prtrue
+regclosekey
+key
+nsok
+nsimethodimp
+nsoutlooksettings
+setlocation
+nsifilespec
+location
+nsok
+nsimethodimp
+nsoutlooksettings
+import
+nsimsgaccount
+localmailaccount
+prbool
+retval
+nsprecondition
+retval
+nsnull
+ptr
+outlooksettings
+doimport
+localmailaccount
+retval
+prtrue
+importlog
+settings
+appears
+successful
+retval
+prfalse
+importlog
+settings
+returned
+false
+nsok
+hkey
+outlooksettings
+findaccountskey
+hkey
+skey
+regopenkeyex
+hkeycurrentuser
+software
+microsoft
+office
+outlook
+omi
+account
+manager
+accounts
+keyqueryvalue
+keyenumeratesubkeys
+skey
+errorsuccess
+skey
+regopenkeyex
+hkeycurrentuser
+software
+microsoft
+office
+outlook
+omi
+account
+manager
+accounts
+keyqueryvalue
+keyenumeratesubkeys
+skey
+errorsuccess
+skey
+nsnull
+prbool
+outlooksettings
+doimport
+nsimsgaccount
+ppaccount
+hkey
+hkey
+findaccountskey
+hkey
+nsnull
+importlog
+error
+finding
+outlook
+registry
+account
+keys
+prfalse
+nsresult
+rv
+nscomptr
+nsimsgaccountmanager
+accmgr
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsfailed
+rv
+importlog
+failed
+to
+create
+account
+manager
+prfalse
+hkey
+subkey
+nscstring
+defmailname
+regopenkeyex
+hkeycurrentuser
+software
+microsoft
+office
+outlook
+omi
+account
+manager
+keyqueryvalue
+subkey
+errorsuccess
+regopenkeyex
+hkeycurrentuser
+software
+microsoft
+office
+outlook
+omi
+account
+manager
+keyqueryvalue
+subkey
+errorsuccess
+subkey
+subkey
+byte
+pbytes
+nsoutlookregutil
+getvaluebytes
+subkey
+default
+mail
+account
+regclosekey
+subkey
+pbytes
+defmailname
+pbytes
+nsoutlookregutil
+freevaluebytes
+pbytes
+dword
+index
+dword
+numchars
+tchar
+keyname
+filetime
+modtime
+long
+result
+errorsuccess
+byte
+pbytes
+popcount
+accounts
+nscstring
+keycomp
+result
+errorsuccess
+numchars
+result
+regenumkeyex
+hkey
+index
+keyname
+numchars
+modtime
+index
+result
+errorsuccess
+regopenkeyex
+hkey
+keyname
+keyqueryvalue
+subkey
+errorsuccess
+importlog
+opened
+outlook
+account
+keyname
+nsimsgaccount
+anaccount
+nsnull
+pbytes
+nsoutlookregutil
+getvaluebytes
+subkey
+imap
+server
+pbytes
+doimapserver
+accmgr
+subkey
+pbytes
+anaccount
+accounts
+nsoutlookregutil
+freevaluebytes
+pbytes
+pbytes
+nsoutlookregutil
+getvaluebytes
+subkey
+pop
+server
+pbytes
+popcount
+dopopserver
+accmgr
+subkey
+pbytes
+anaccount
+popcount
+accounts
+ppaccount
+anaccount
+ppaccount
+anaccount
+nsaddref
+anaccount
+dopopserver
+accmgr
+subkey
+pbytes
+anaccount
+popcount
+accounts
+ppaccount
+ppaccount
+nsrelease
+ppaccount
+ppaccount
+nsnull
+nsoutlookregutil
+freevaluebytes
+pbytes
+anaccount
+keycomp
+keyname
+keycomp
+equals
+defmailname
+accmgr
+setdefaultaccount
+anaccount
+nsrelease
+anaccount
+regclosekey
+subkey
+rv
+accmgr
+saveaccountinfo
+nsassertion
+nssucceeded
+rv
+can
+save
+account
+info
+to
+pref
+file
+accounts
+nsresult
+outlooksettings
+getaccountname
+hkey
+hkey
+defaultname
+nsstring
+acctname
+byte
+paccname
+nsoutlookregutil
+getvaluebytes
+hkey
+account
+name
+nsresult
+rv
+nsok
+paccname
+nscomptr
+nsiimportservice
+impsvc
+dogetservice
+nsimportservicecontractid
+impsvc
+rv
+impsvc
+systemstringtounicode
+paccname
+acctname
+nsoutlookregutil
+freevaluebytes
+paccname
+acctname
+assign
+nsconvertasciitoucs
+defaultname
+rv
+prbool
+outlooksettings
+doimapserver
+nsimsgaccountmanager
+pmgr
+hkey
+hkey
+pservername
+nsimsgaccount
+ppaccount
+ppaccount
+ppaccount
+nsnull
+byte
+pbytes
+pbytes
+nsoutlookregutil
+getvaluebytes
+hkey
+imap
+user
+name
+pbytes
+prfalse
+prbool
+result
+prfalse
+nscomptr
+nsimsgincomingserver
+in
+nsresult
+rv
+pmgr
+findserver
+pbytes
+pservername
+imap
+getteraddrefs
+in
+nsfailed
+rv
+in
+nsnull
+rv
+pmgr
+createincomingserver
+pbytes
+pservername
+imap
+getteraddrefs
+in
+nssucceeded
+rv
+in
+rv
+in
+settype
+imap
+importlog
+created
+imap
+server
+named
+username
+pservername
+pbytes
+nsstring
+prettyname
+nssucceeded
+getaccountname
+hkey
+pservername
+prettyname
+prunichar
+pretty
+tonewunicode
+prettyname
+pretty
+rv
+in
+setprettyname
+pretty
+nscrt
+free
+pretty
+nscomptr
+nsimsgaccount
+account
+rv
+pmgr
+createaccount
+getteraddrefs
+account
+nssucceeded
+rv
+account
+rv
+account
+setincomingserver
+in
+importlog
+created
+an
+account
+set
+the
+imap
+server
+as
+the
+incoming
+server
+setidentities
+pmgr
+account
+hkey
+result
+prtrue
+ppaccount
+account
+queryinterface
+nsgetiid
+nsimsgaccount
+ppaccount
+result
+prtrue
+nsoutlookregutil
+freevaluebytes
+pbytes
+result
+prbool
+outlooksettings
+dopopserver
+nsimsgaccountmanager
+pmgr
+hkey
+hkey
+pservername
+nsimsgaccount
+ppaccount
+ppaccount
+ppaccount
+nsnull
+byte
+pbytes
+pbytes
+nsoutlookregutil
+getvaluebytes
+hkey
+pop
+user
+name
+pbytes
+prfalse
+prbool
+result
+prfalse
+nscomptr
+nsimsgincomingserver
+in
+nsresult
+rv
+pmgr
+findserver
+pbytes
+pservername
+pop
+getteraddrefs
+in
+nsfailed
+rv
+in
+nsnull
+rv
+pmgr
+createincomingserver
+pbytes
+pservername
+pop
+getteraddrefs
+in
+nssucceeded
+rv
+in
+rv
+in
+settype
+pop
+importlog
+created
+pop
+server
+named
+username
+pservername
+pbytes
+nsstring
+prettyname
+nssucceeded
+getaccountname
+hkey
+pservername
+prettyname
+prunichar
+pretty
+tonewunicode
+prettyname
+pretty
+rv
+in
+setprettyname
+pretty
+nscrt
+free
+pretty
+nscomptr
+nsimsgaccount
+account
+rv
+pmgr
+createaccount
+getteraddrefs
+account
+nssucceeded
+rv
+account
+rv
+account
+setincomingserver
+in
+importlog
+created
+account
+set
+the
+incoming
+server
+to
+the
+pop
+server
+nscomptr
+nsipopincomingserver
+popserver
+doqueryinterface
+in
+rv
+nsensuresuccess
+rv
+rv
+byte
+pleaveonserver
+nsoutlookregutil
+getvaluebytes
+hkey
+leave
+mail
+on
+server
+pleaveonserver
+popserver
+setleavemessagesonserver
+pleaveonserver
+prtrue
+prfalse
+nsoutlookregutil
+freevaluebytes
+pleaveonserver
+setidentities
+pmgr
+account
+hkey
+result
+prtrue
+ppaccount
+account
+queryinterface
+nsgetiid
+nsimsgaccount
+ppaccount
+result
+prtrue
+nsoutlookregutil
+freevaluebytes
+pbytes
+result
+prbool
+outlooksettings
+identitymatches
+nsimsgidentity
+pident
+pname
+pserver
+pemail
+preply
+pusername
+pident
+prfalse
+piname
+nsnull
+piemail
+nsnull
+pireply
+nsnull
+prbool
+result
+prtrue
+prunichar
+ppiname
+nsnull
+nsresult
+rv
+pident
+getfullname
+ppiname
+rv
+pident
+getemail
+piemail
+rv
+pident
+getreplyto
+pireply
+ppiname
+nsstring
+name
+ppiname
+nscrt
+free
+ppiname
+piname
+tonewcstring
+name
+preply
+pireply
+nscrt
+strcasecmp
+preply
+pireply
+result
+prfalse
+pemail
+piemail
+nscrt
+strcasecmp
+pemail
+piemail
+result
+prfalse
+nscrt
+free
+piname
+nscrt
+free
+piemail
+nscrt
+free
+pireply
+result
+outlooksettings
+setidentities
+nsimsgaccountmanager
+pmgr
+nsimsgaccount
+pacc
+hkey
+hkey
+pname
+nsoutlookregutil
+getvaluebytes
+hkey
+smtp
+display
+name
+pserver
+nsoutlookregutil
+getvaluebytes
+hkey
+smtp
+server
+pemail
+nsoutlookregutil
+getvaluebytes
+hkey
+smtp
+email
+address
+preply
+nsoutlookregutil
+getvaluebytes
+hkey
+smtp
+reply
+to
+email
+address
+pusername
+nsoutlookregutil
+getvaluebytes
+hkey
+smtp
+user
+name
+porgname
+nsoutlookregutil
+getvaluebytes
+hkey
+smtp
+organization
+name
+nsresult
+rv
+pemail
+pname
+pserver
+nscomptr
+nsimsgidentity
+id
+rv
+pmgr
+createidentity
+getteraddrefs
+id
+id
+nsautostring
+name
+organization
+nscomptr
+nsiimportservice
+impsvc
+dogetservice
+nsimportservicecontractid
+impsvc
+rv
+impsvc
+systemstringtounicode
+pname
+name
+nssucceeded
+rv
+id
+setfullname
+name
+get
+id
+setidentityname
+name
+get
+rv
+impsvc
+systemstringtounicode
+porgname
+organization
+nssucceeded
+rv
+id
+setorganization
+organization
+get
+id
+setemail
+pemail
+preply
+id
+setreplyto
+preply
+pacc
+addidentity
+id
+importlog
+created
+identity
+added
+to
+the
+account
+importlog
+tname
+pname
+importlog
+temail
+pemail
+pusername
+nscomptr
+nsimsgincomingserver
+incomingserver
+rv
+pacc
+getincomingserver
+getteraddrefs
+incomingserver
+nssucceeded
+rv
+incomingserver
+rv
+incomingserver
+getusername
+pusername
+nsassertion
+nssucceeded
+rv
+unable
+to
+get
+username
+from
+incomingserver
+setsmtpserver
+pmgr
+pacc
+pserver
+pusername
+nsoutlookregutil
+freevaluebytes
+byte
+pname
+nsoutlookregutil
+freevaluebytes
+byte
+pserver
+nsoutlookregutil
+freevaluebytes
+byte
+pemail
+nsoutlookregutil
+freevaluebytes
+byte
+preply
+nsoutlookregutil
+freevaluebytes
+byte
+pusername
+outlooksettings
+setsmtpserver
+nsimsgaccountmanager
+pmgr
+nsimsgaccount
+pacc
+pserver
+puser
+nsresult
+rv
+nscomptr
+nsismtpservice
+smtpservice
+dogetservice
+nssmtpservicecontractid
+rv
+nssucceeded
+rv
+smtpservice
+nscomptr
+nsismtpserver
+foundserver
+rv
+smtpservice
+findserver
+puser
+pserver
+getteraddrefs
+foundserver
+nssucceeded
+rv
+foundserver
+importlog
+smtp
+server
+already
+exists
+pserver
+nscomptr
+nsismtpserver
+smtpserver
+rv
+smtpservice
+createsmtpserver
+getteraddrefs
+smtpserver
+nssucceeded
+rv
+smtpserver
+smtpserver
+sethostname
+pserver
+puser
+smtpserver
+setusername
+puser
+importlog
+created
+smtp
+server
+pserver nsresult
\ No newline at end of file
@@ -0,0 +1,83 @@
+importtranslate
+importtranslate
+musetranslator
+prbool
+importtranslate
+convertstring
+nscstring
+instr
+nscstring
+outstr
+prbool
+mimeheader
+instr
+isempty
+outstr
+instr
+prtrue
+nsimporttranslator
+ptrans
+gettranslator
+nscstring
+set
+nscstring
+lang
+mimeheader
+ptrans
+getcharset
+set
+ptrans
+getlanguage
+lang
+set
+truncate
+lang
+truncate
+pruint
+pbuf
+outstr
+instr
+ptrans
+ptrans
+cmhtranslator
+pbuf
+pruint
+ptrans
+getmaxbuffersize
+outstr
+length
+ptrans
+convertbuffer
+pruint
+outstr
+get
+outstr
+length
+pbuf
+ptrans
+outstr
+truncate
+mimeheader
+outstr
+set
+outstr
+outstr
+lang
+outstr
+outstr
+pbuf
+pbuf
+prtrue
+nsimporttranslator
+importtranslate
+gettranslator
+musetranslator
+musetranslator
+musetranslator
+nsimporttranslator
+nsimporttranslator
+nsimporttranslator
+importtranslate
+getmatchingtranslator
+pcharset
+nsnull
\ No newline at end of file
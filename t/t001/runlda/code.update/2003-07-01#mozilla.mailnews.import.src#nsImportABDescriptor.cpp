@@ -0,0 +1,43 @@
+nscore
+nsimportabdescriptor
+nsmethod
+nsimportabdescriptor
+create
+nsisupports
+aouter
+refnsiid
+aiid
+aresult
+aouter
+nserrornoaggregation
+nsimportabdescriptor
+it
+nsimportabdescriptor
+it
+nsnull
+nserroroutofmemory
+nsaddref
+it
+nsresult
+rv
+it
+queryinterface
+aiid
+aresult
+nsrelease
+it
+rv
+nsimplthreadsafeisupports
+nsimportabdescriptor
+nsiimportabdescriptor
+nsimportabdescriptor
+nsimportabdescriptor
+mref
+mid
+msize
+mimport
+prtrue
+mpfilespec
+nsnull
+nsnewfilespec
+mpfilespec
\ No newline at end of file
@@ -0,0 +1,1395 @@
+prthread
+prprf
+nscore
+nscomptr
+nsiimportservice
+nsisupportsarray
+nsiimportaddressbooks
+nsiimportgeneric
+nsxpcom
+nsisupportsprimitives
+nsiimportabdescriptor
+nsiimportfieldmap
+nscrt
+nsstring
+nsiurl
+nsnetcid
+nsifilespec
+nsilocalfile
+nsiaddrdatabase
+nsiaddrbooksession
+nsirdfservice
+nsrdfcid
+nsabbasecid
+nsiabdirectory
+nsimportstringbundle
+nstextformatter
+nsiproxyobjectmanager
+nsproxiedservice
+importdebug
+nsdefinecid
+kabdirectorycid
+nsabdirectorycid
+nsdefinecid
+krdfservicecid
+nsrdfservicecid
+nsdefinecid
+ksupportswstringcid
+nssupportsstringcid
+nsdefinecid
+kproxyobjectmanagercid
+nsproxyeventmanagercid
+prstaticcallback
+importaddressthread
+stuff
+addressthreaddata
+nsimportgenericaddressbooks
+nsiimportgeneric
+nsimportgenericaddressbooks
+nsimportgenericaddressbooks
+nsdeclisupports
+nsimethod
+getdata
+dataid
+nsisupports
+retval
+nsimethod
+setdata
+dataid
+nsisupports
+pdata
+nsimethod
+getstatus
+statuskind
+print
+retval
+nsimethod
+wantsprogress
+prbool
+retval
+nsimethod
+beginimport
+nsisupportsstring
+successlog
+nsisupportsstring
+errorlog
+prbool
+isaddrlochome
+prbool
+retval
+nsimethod
+continueimport
+prbool
+retval
+nsimethod
+getprogress
+print
+retval
+nsimethod
+cancelimport
+getdefaultlocation
+getdefaultbooks
+getdefaultfieldmap
+setlogs
+nsstring
+success
+nsstring
+error
+nsisupportsstring
+psuccess
+nsisupportsstring
+perror
+reporterror
+prunichar
+pname
+nsstring
+pstream
+nsiimportaddressbooks
+mpinterface
+nsisupportsarray
+mpbooks
+nscomptr
+nsifilespec
+mplocation
+nsiimportfieldmap
+mpfieldmap
+prbool
+mautofind
+prunichar
+mdescription
+prbool
+mgotlocation
+prbool
+mfound
+prbool
+muserverify
+nsisupportsstring
+mpsuccesslog
+nsisupportsstring
+mperrorlog
+pruint
+mtotalsize
+prbool
+mdoimport
+addressthreaddata
+mpthreaddata
+mpdestinationuri
+addressthreaddata
+prbool
+driveralive
+prbool
+threadalive
+prbool
+abort
+prbool
+fatalerror
+pruint
+currenttotal
+pruint
+currentsize
+nsisupportsarray
+books
+nsiimportaddressbooks
+addressimport
+nsiimportfieldmap
+fieldmap
+nsisupportsstring
+successlog
+nsisupportsstring
+errorlog
+pdestinationuri
+prbool
+baddrlocinput
+addressthreaddata
+addressthreaddata
+driverdelete
+threaddelete
+driverabort
+nsresult
+nsnewgenericaddressbooks
+nsiimportgeneric
+aimportgeneric
+nsprecondition
+aimportgeneric
+nsnull
+ptr
+aimportgeneric
+nserrornullpointer
+nsimportgenericaddressbooks
+pgen
+nsimportgenericaddressbooks
+pgen
+nsnull
+nserroroutofmemory
+nsaddref
+pgen
+nsresult
+rv
+pgen
+queryinterface
+nsgetiid
+nsiimportgeneric
+aimportgeneric
+nsrelease
+pgen
+rv
+nsimportgenericaddressbooks
+nsimportgenericaddressbooks
+mpinterface
+nsnull
+mpbooks
+nsnull
+mpsuccesslog
+nsnull
+mperrorlog
+nsnull
+mtotalsize
+mdoimport
+prfalse
+mpthreaddata
+nsnull
+mpdestinationuri
+nsnull
+mpfieldmap
+nsnull
+mautofind
+prfalse
+mdescription
+nsnull
+mgotlocation
+prfalse
+mfound
+prfalse
+muserverify
+prfalse
+nsimportgenericaddressbooks
+nsimportgenericaddressbooks
+mpthreaddata
+mpthreaddata
+driverabort
+mpthreaddata
+nsnull
+mpdestinationuri
+nscrt
+free
+mpdestinationuri
+mdescription
+nscrt
+free
+mdescription
+nsifrelease
+mpfieldmap
+nsifrelease
+mpinterface
+nsifrelease
+mpbooks
+nsifrelease
+mpsuccesslog
+nsifrelease
+mperrorlog
+nsimplthreadsafeisupports
+nsimportgenericaddressbooks
+nsiimportgeneric
+nsimethodimp
+nsimportgenericaddressbooks
+getdata
+dataid
+nsisupports
+retval
+nsprecondition
+retval
+nsnull
+ptr
+retval
+nserrornullpointer
+nsresult
+rv
+retval
+nsnull
+nscrt
+strcasecmp
+dataid
+addressinterface
+retval
+mpinterface
+nsifaddref
+mpinterface
+nscrt
+strcasecmp
+dataid
+addresslocation
+mplocation
+getdefaultlocation
+nsifaddref
+retval
+mplocation
+nscrt
+strcasecmp
+dataid
+addressbooks
+mplocation
+getdefaultlocation
+mpbooks
+getdefaultbooks
+retval
+mpbooks
+nsifaddref
+mpbooks
+nscrt
+strcasecmp
+dataid
+addressdestination
+mpdestinationuri
+nscomptr
+nsiurl
+url
+docreateinstance
+nsstandardurlcontractid
+rv
+nssucceeded
+rv
+url
+setspec
+nsdependentcstring
+mpdestinationuri
+nsifaddref
+retval
+url
+nscrt
+strcasecmp
+dataid
+fieldmap
+mpfieldmap
+retval
+mpfieldmap
+mpfieldmap
+addref
+mpinterface
+mplocation
+prbool
+needsit
+prfalse
+mpinterface
+getneedsfieldmap
+mplocation
+needsit
+needsit
+getdefaultfieldmap
+mpfieldmap
+retval
+mpfieldmap
+mpfieldmap
+addref
+nscrt
+strncasecmp
+dataid
+sampledata
+pnum
+dataid
+print
+rnum
+pnum
+rnum
+rnum
+pnum
+pnum
+importlog
+requesting
+sample
+data
+ld
+rnum
+mpinterface
+nscomptr
+nsisupportsstring
+data
+rv
+nscomponentmanager
+createinstance
+ksupportswstringcid
+nsnull
+nsgetiid
+nsisupportsstring
+getteraddrefs
+data
+nsfailed
+rv
+rv
+prunichar
+pdata
+nsnull
+prbool
+found
+prfalse
+rv
+mpinterface
+getsampledata
+rnum
+found
+pdata
+nsfailed
+rv
+rv
+found
+data
+setdata
+nsdependentstring
+pdata
+retval
+data
+nsaddref
+retval
+nscrt
+free
+pdata
+nsok
+nsimethodimp
+nsimportgenericaddressbooks
+setdata
+dataid
+nsisupports
+item
+nsprecondition
+dataid
+nsnull
+ptr
+dataid
+nserrornullpointer
+nscrt
+strcasecmp
+dataid
+addressinterface
+nsifrelease
+mpinterface
+item
+item
+queryinterface
+nsgetiid
+nsiimportaddressbooks
+mpinterface
+nscrt
+strcasecmp
+dataid
+addressbooks
+nsifrelease
+mpbooks
+item
+item
+queryinterface
+nsgetiid
+nsisupportsarray
+mpbooks
+nscrt
+strcasecmp
+dataid
+addresslocation
+mplocation
+nsnull
+item
+nsresult
+rv
+nscomptr
+nsilocalfile
+location
+doqueryinterface
+item
+rv
+nsensuresuccess
+rv
+rv
+rv
+nsnewfilespecfromifile
+location
+getteraddrefs
+mplocation
+nsensuresuccess
+rv
+rv
+mpinterface
+mpinterface
+setsamplelocation
+mplocation
+nscrt
+strcasecmp
+dataid
+addressdestination
+item
+nscomptr
+nsiurl
+url
+item
+queryinterface
+nsgetiid
+nsiurl
+getteraddrefs
+url
+url
+mpdestinationuri
+nscrt
+free
+mpdestinationuri
+mpdestinationuri
+nsnull
+nscautostring
+spec
+url
+getspec
+spec
+mpdestinationuri
+tonewcstring
+spec
+nscrt
+strcasecmp
+dataid
+fieldmap
+nsifrelease
+mpfieldmap
+item
+item
+queryinterface
+nsgetiid
+nsiimportfieldmap
+mpfieldmap
+nsok
+nsimethodimp
+nsimportgenericaddressbooks
+getstatus
+statuskind
+print
+retval
+nsprecondition
+statuskind
+nsnull
+ptr
+nsprecondition
+retval
+nsnull
+ptr
+statuskind
+retval
+nserrornullpointer
+retval
+nscrt
+strcasecmp
+statuskind
+isinstalled
+getdefaultlocation
+retval
+print
+mfound
+nscrt
+strcasecmp
+statuskind
+canusersetlocation
+getdefaultlocation
+retval
+print
+muserverify
+nscrt
+strcasecmp
+statuskind
+autofind
+getdefaultlocation
+retval
+print
+mautofind
+nscrt
+strcasecmp
+statuskind
+supportsmultiple
+prbool
+multi
+prfalse
+mpinterface
+mpinterface
+getsupportsmultiple
+multi
+retval
+print
+multi
+nscrt
+strcasecmp
+statuskind
+needsfieldmap
+prbool
+needs
+prfalse
+mpinterface
+mplocation
+mpinterface
+getneedsfieldmap
+mplocation
+needs
+retval
+print
+needs
+nsok
+nsimportgenericaddressbooks
+getdefaultlocation
+mpinterface
+mplocation
+mgotlocation
+mautofind
+mdescription
+nscrt
+free
+mdescription
+mdescription
+nsnull
+mpinterface
+getautofind
+mdescription
+mautofind
+mgotlocation
+prtrue
+mautofind
+mfound
+prtrue
+muserverify
+prfalse
+nsifilespec
+ploc
+nsnull
+mpinterface
+getdefaultlocation
+ploc
+mfound
+muserverify
+mplocation
+mplocation
+ploc
+nsifrelease
+ploc
+nsimportgenericaddressbooks
+getdefaultbooks
+mpinterface
+mpbooks
+mplocation
+mautofind
+nsresult
+rv
+mpinterface
+findaddressbooks
+mplocation
+mpbooks
+nsfailed
+rv
+importlog
+error
+findaddressbooks
+failed
+nsimportgenericaddressbooks
+getdefaultfieldmap
+mpinterface
+mplocation
+nsifrelease
+mpfieldmap
+nsresult
+rv
+nscomptr
+nsiimportservice
+impsvc
+dogetservice
+nsimportservicecontractid
+rv
+nsfailed
+rv
+importlog
+unable
+to
+get
+nsiimportservice
+rv
+impsvc
+createnewfieldmap
+mpfieldmap
+nsfailed
+rv
+print
+sz
+rv
+mpfieldmap
+getnummozfields
+sz
+nssucceeded
+rv
+rv
+mpfieldmap
+defaultfieldmap
+sz
+nssucceeded
+rv
+rv
+mpinterface
+initfieldmap
+mplocation
+mpfieldmap
+nsfailed
+rv
+importlog
+error
+unable
+to
+initialize
+field
+map
+nsifrelease
+mpfieldmap
+nsimethodimp
+nsimportgenericaddressbooks
+wantsprogress
+prbool
+retval
+nsprecondition
+retval
+nsnull
+ptr
+retval
+nserrornullpointer
+mpthreaddata
+mpthreaddata
+driverabort
+mpthreaddata
+nsnull
+getdefaultlocation
+getdefaultbooks
+pruint
+totalsize
+prbool
+result
+prfalse
+mpbooks
+pruint
+count
+nsresult
+rv
+mpbooks
+count
+count
+pruint
+prbool
+pruint
+size
+count
+nscomptr
+nsiimportabdescriptor
+book
+doqueryelementat
+mpbooks
+book
+prfalse
+size
+rv
+book
+getimport
+rv
+book
+getsize
+size
+result
+prtrue
+totalsize
+size
+mtotalsize
+totalsize
+mdoimport
+result
+retval
+result
+nsok
+nsimportgenericaddressbooks
+setlogs
+nsstring
+success
+nsstring
+error
+nsisupportsstring
+psuccess
+nsisupportsstring
+perror
+nsautostring
+str
+psuccess
+psuccess
+getdata
+str
+str
+append
+success
+psuccess
+setdata
+success
+perror
+perror
+getdata
+str
+str
+append
+error
+perror
+setdata
+error
+nsimethodimp
+nsimportgenericaddressbooks
+beginimport
+nsisupportsstring
+successlog
+nsisupportsstring
+errorlog
+prbool
+isaddrlochome
+prbool
+retval
+nsprecondition
+retval
+nsnull
+ptr
+retval
+nserrornullpointer
+nsstring
+success
+nsstring
+error
+mdoimport
+retval
+prtrue
+nsimportstringbundle
+getstringbyid
+importnoaddrbooks
+success
+setlogs
+success
+error
+successlog
+errorlog
+nsok
+mpinterface
+mpbooks
+nsimportstringbundle
+getstringbyid
+importerrorabnotinitialized
+error
+setlogs
+success
+error
+successlog
+errorlog
+retval
+prfalse
+nsok
+mpthreaddata
+mpthreaddata
+driverabort
+mpthreaddata
+nsnull
+nsifrelease
+mpsuccesslog
+nsifrelease
+mperrorlog
+mpsuccesslog
+successlog
+mperrorlog
+errorlog
+nsifaddref
+mpsuccesslog
+nsifaddref
+mperrorlog
+mpthreaddata
+addressthreaddata
+mpthreaddata
+books
+mpbooks
+nsaddref
+mpbooks
+mpthreaddata
+addressimport
+mpinterface
+nsaddref
+mpinterface
+mpthreaddata
+fieldmap
+mpfieldmap
+nsifaddref
+mpfieldmap
+mpthreaddata
+errorlog
+mperrorlog
+nsifaddref
+mperrorlog
+mpthreaddata
+successlog
+mpsuccesslog
+nsifaddref
+mpsuccesslog
+mpdestinationuri
+mpthreaddata
+pdestinationuri
+nscrt
+strdup
+mpdestinationuri
+mpthreaddata
+baddrlocinput
+isaddrlochome
+prthread
+pthread
+prcreatethread
+pruserthread
+importaddressthread
+mpthreaddata
+prprioritynormal
+prlocalthread
+prunjoinablethread
+pthread
+mpthreaddata
+threaddelete
+mpthreaddata
+driverdelete
+mpthreaddata
+nsnull
+retval
+prfalse
+nsimportstringbundle
+getstringbyid
+importerrorabnothread
+error
+setlogs
+success
+error
+successlog
+errorlog
+retval
+prtrue
+nsok
+nsimethodimp
+nsimportgenericaddressbooks
+continueimport
+prbool
+retval
+nsprecondition
+retval
+nsnull
+ptr
+retval
+nserrornullpointer
+retval
+prtrue
+mpthreaddata
+mpthreaddata
+fatalerror
+retval
+prfalse
+nsok
+nsimethodimp
+nsimportgenericaddressbooks
+getprogress
+print
+retval
+nsprecondition
+retval
+nsnull
+ptr
+retval
+nserrornullpointer
+mpthreaddata
+mpthreaddata
+threadalive
+retval
+nsok
+pruint
+sz
+mpthreaddata
+currentsize
+mpinterface
+nsfailed
+mpinterface
+getimportprogress
+sz
+sz
+mtotalsize
+retval
+mpthreaddata
+currenttotal
+sz
+mtotalsize
+retval
+retval
+retval
+retval
+retval
+nsok
+nsimethodimp
+nsimportgenericaddressbooks
+cancelimport
+mpthreaddata
+mpthreaddata
+abort
+prtrue
+mpthreaddata
+driverabort
+mpthreaddata
+nsnull
+nsok
+addressthreaddata
+addressthreaddata
+fatalerror
+prfalse
+driveralive
+prtrue
+threadalive
+prtrue
+abort
+prfalse
+currenttotal
+currentsize
+books
+nsnull
+addressimport
+nsnull
+successlog
+nsnull
+errorlog
+nsnull
+pdestinationuri
+nsnull
+fieldmap
+nsnull
+addressthreaddata
+addressthreaddata
+pdestinationuri
+nscrt
+free
+pdestinationuri
+nsifrelease
+books
+nsifrelease
+addressimport
+nsifrelease
+errorlog
+nsifrelease
+successlog
+nsifrelease
+fieldmap
+addressthreaddata
+driverdelete
+driveralive
+prfalse
+driveralive
+threadalive
+addressthreaddata
+threaddelete
+threadalive
+prfalse
+driveralive
+threadalive
+addressthreaddata
+driverabort
+abort
+threadalive
+abort
+prtrue
+driverdelete
+nsiaddrdatabase
+getaddressbookfromuri
+puri
+nsnull
+nsiaddrdatabase
+getaddressbook
+prunichar
+name
+prbool
+makenew
+nsresult
+rv
+nsok
+makenew
+importlog
+in
+getaddressbook
+nscomptr
+nsiproxyobjectmanager
+proxymgr
+dogetservice
+kproxyobjectmanagercid
+rv
+nsfailed
+rv
+importlog
+error
+unable
+to
+get
+proxy
+manager
+nsnull
+nsiaddrdatabase
+pdatabase
+nsnull
+nsfilespec
+dbpath
+nsnull
+nswithproxiedservice
+nsiaddrbooksession
+absession
+nsaddrbooksessioncontractid
+nsuithreadeventq
+rv
+nssucceeded
+rv
+absession
+getuserprofiledirectory
+dbpath
+dbpath
+dbpath
+impab
+mab
+dbpath
+makeunique
+importlog
+getting
+the
+address
+database
+factory
+nswithproxiedservice
+nsiaddrdatabase
+addrdbfactory
+nsaddrdatabasecontractid
+nsuithreadeventq
+rv
+nssucceeded
+rv
+addrdbfactory
+importlog
+opening
+the
+address
+book
+rv
+addrdbfactory
+open
+dbpath
+prtrue
+pdatabase
+prtrue
+importlog
+failed
+to
+get
+the
+user
+profile
+directory
+from
+the
+address
+book
+session
+pdatabase
+nswithproxiedservice
+nsirdfservice
+rdfservice
+krdfservicecid
+nsuithreadeventq
+rv
+nssucceeded
+rv
+nscomptr
+nsirdfresource
+parentresource
+rv
+rdfservice
+getresource
+nsliteralcstring
+kalldirectoryroot
+getteraddrefs
+parentresource
+nscomptr
+nsiabdirectory
+parentdir
+rv
+proxymgr
+getproxyforobject
+nsuithreadeventq
+nsgetiid
+nsiabdirectory
+parentresource
+proxysync
+proxyalways
+getteraddrefs
+parentdir
+parentdir
+nscautostring
+uri
+moz
+abmdbdirectory
+uri
+append
+dbpath
+getleafname
+parentdir
+createdirectorybyuri
+name
+uri
+get
+prfalse
+dbpath
+importlog
+added
+address
+book
+to
+the
+ui
+pdatabase
+nsimportgenericaddressbooks
+reporterror
+prunichar
+pname
+nsstring
+pstream
+pstream
+prunichar
+pfmt
+nsimportstringbundle
+getstringbyid
+importerrorgetabook
+prunichar
+ptext
+nstextformatter
+smprintf
+pfmt
+pname
+pstream
+append
+ptext
+nstextformatter
+smprintffree
+ptext
+nsimportstringbundle
+freestring
+pfmt
+pstream
+appendwithconversion
+nslinebreak
+prstaticcallback
+importaddressthread
+stuff
+importlog
+in
+begin
+importaddressthread
+addressthreaddata
+pdata
+addressthreaddata
+stuff
+pruint
+count
+nsresult
+rv
+pdata
+books
+count
+count
+pruint
+prbool
+pruint
+size
+nscomptr
+nsiaddrdatabase
+destdb
+getteraddrefs
+getaddressbookfromuri
+pdata
+pdestinationuri
+nscomptr
+nsiaddrdatabase
+pdestdb
+nsstring
+success
+nsstring
+error
+count
+pdata
+abort
+nscomptr
+nsiimportabdescriptor
+book
+doqueryelementat
+pdata
+books
+book
+prfalse
+size
+rv
+book
+getimport
+rv
+book
+getsize
+size
+size
+prunichar
+pname
+book
+getpreferredname
+pname
+destdb
+pdestdb
+destdb
+pdestdb
+getaddressbook
+pname
+prtrue
+nscomptr
+nsiaddrdatabase
+proxyaddrdatabase
+rv
+nsgetproxyforobject
+nsuithreadeventq
+nsgetiid
+nsiaddrdatabase
+pdestdb
+proxysync
+proxyalways
+getteraddrefs
+proxyaddrdatabase
+nsfailed
+rv
+prbool
+fatalerror
+prfalse
+pdata
+currentsize
+size
+proxyaddrdatabase
+prunichar
+psuccess
+nsnull
+prunichar
+perror
+nsnull
+rv
+pdata
+addressimport
+importaddressbook
+book
+proxyaddrdatabase
+pdata
+fieldmap
+pdata
+baddrlocinput
+perror
+psuccess
+fatalerror
+psuccess
+success
+append
+psuccess
+nscrt
+free
+psuccess
+perror
+error
+append
+perror
+nscrt
+free
+perror
+nsimportgenericaddressbooks
+reporterror
+pname
+error
+nscrt
+free
+pname
+pdata
+currentsize
+pdata
+currenttotal
+size
+proxyaddrdatabase
+proxyaddrdatabase
+close
+prtrue
+fatalerror
+pdata
+fatalerror
+prtrue
+destdb
+destdb
+close
+prtrue
+nsimportgenericaddressbooks
+setlogs
+success
+error
+pdata
+successlog
+pdata
+errorlog
+pdata
+abort
+pdata
+fatalerror
+pdata
+threaddelete nsresult
\ No newline at end of file
@@ -0,0 +1,43 @@
+nscore
+nsimportmailboxdescriptor
+nsmethod
+nsimportmailboxdescriptor
+create
+nsisupports
+aouter
+refnsiid
+aiid
+aresult
+aouter
+nserrornoaggregation
+nsimportmailboxdescriptor
+it
+nsimportmailboxdescriptor
+it
+nsnull
+nserroroutofmemory
+nsaddref
+it
+nsresult
+rv
+it
+queryinterface
+aiid
+aresult
+nsrelease
+it
+rv
+nsimplthreadsafeisupports
+nsimportmailboxdescriptor
+nsiimportmailboxdescriptor
+nsimportmailboxdescriptor
+nsimportmailboxdescriptor
+mimport
+prtrue
+mpfilespec
+nsnull
+msize
+mdepth
+mid
+nsnewfilespec
+mpfilespec nsresult
\ No newline at end of file
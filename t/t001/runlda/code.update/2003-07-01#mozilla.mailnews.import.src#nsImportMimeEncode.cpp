@@ -0,0 +1,646 @@
+nscore
+nsstring
+nscrt
+nsimportmimeencode
+importcharset
+importtranslate
+define
+knostate
+define
+kstartstate
+define
+kencodestate
+define
+kdonestate
+define
+kencodebuffersz
+nsimportmimeencode
+nsimportmimeencode
+mpout
+nsnull
+mstate
+knostate
+mbytesprocessed
+mpinputbuf
+nsnull
+mpmimefile
+nsnull
+nsimportmimeencode
+nsimportmimeencode
+nsifrelease
+mpmimefile
+mpinputbuf
+mpinputbuf
+nsimportmimeencode
+encodefile
+nsifilespec
+pinfile
+importoutfile
+pout
+pfilename
+pmimetype
+mfilename
+pfilename
+mmimetype
+pmimetype
+mpmimefile
+pinfile
+nsifaddref
+mpmimefile
+mpout
+pout
+mstate
+kstartstate
+nsimportmimeencode
+cleanup
+cleanupencodescan
+prbool
+nsimportmimeencode
+setupencode
+nscstring
+errstr
+mpinputbuf
+mpinputbuf
+pruint
+kencodebuffersz
+mapplesingle
+prfalse
+ifdef
+macimportcode
+mfilepath
+getmacfilesize
+ufilelocation
+eresourcefork
+pmimetype
+mapplesingle
+true
+mmimetype
+application
+applefile
+endif
+initencodescan
+mapplesingle
+mpmimefile
+mfilename
+get
+mpinputbuf
+kencodebuffersz
+prfalse
+mstate
+kencodestate
+mlinelen
+prbool
+bresult
+prtrue
+bresult
+mpout
+writestr
+content
+type
+bresult
+bresult
+mpout
+writestr
+mmimetype
+get
+ifdef
+macimportcode
+bresult
+bresult
+mpout
+writestr
+mac
+type
+hex
+longtohexbytes
+mfilepath
+getfiletype
+hex
+bresult
+bresult
+mpout
+writedata
+hex
+longtohexbytes
+mfilepath
+getfilecreator
+hex
+bresult
+bresult
+mpout
+writestr
+mac
+creator
+bresult
+bresult
+mpout
+writedata
+hex
+bresult
+bresult
+mpout
+writestr
+endif
+bresult
+bresult
+mpout
+writestr
+xd
+xa
+nscstring
+fname
+prbool
+trans
+translatefilename
+mfilename
+fname
+bresult
+bresult
+writefilename
+fname
+trans
+name
+bresult
+bresult
+mpout
+writestr
+content
+transfer
+encoding
+base
+bresult
+bresult
+mpout
+writeeol
+bresult
+bresult
+mpout
+writestr
+content
+disposition
+attachment
+xd
+xa
+bresult
+bresult
+writefilename
+fname
+trans
+filename
+bresult
+bresult
+mpout
+writeeol
+bresult
+cleanup
+bresult
+prbool
+nsimportmimeencode
+dowork
+prbool
+pdone
+pdone
+prfalse
+mstate
+knostate
+prfalse
+kstartstate
+setupencode
+kencodestate
+scan
+pdone
+cleanup
+prfalse
+pdone
+pdone
+prfalse
+mstate
+kdonestate
+kdonestate
+cleanup
+mstate
+knostate
+pdone
+prtrue
+prtrue
+pruint
+gbase
+abcdefghijklmnopqrstuvwxyzabcdefghijklmnopqrstuvwxyz
+prbool
+nsimportmimeencode
+scanbuffer
+prbool
+pdone
+pruint
+pos
+mpos
+pruint
+start
+pos
+pruint
+pchar
+mpbuf
+pos
+pruint
+max
+mbytesinbuf
+pruint
+pruint
+linelen
+mlinelen
+pos
+max
+gbase
+pchar
+gbase
+pchar
+pchar
+xf
+pchar
+gbase
+pchar
+xf
+pchar
+xc
+pchar
+gbase
+pchar
+xf
+mpout
+writedata
+prfalse
+pos
+pchar
+linelen
+linelen
+mpout
+writeeol
+prfalse
+linelen
+pos
+max
+meof
+gbase
+pchar
+pos
+pos
+max
+gbase
+pchar
+pchar
+xf
+pchar
+pos
+pos
+max
+gbase
+pchar
+xf
+pchar
+xc
+pchar
+gbase
+pchar
+xf
+pos
+gbase
+pchar
+xf
+gbase
+pchar
+mpout
+writedata
+prfalse
+mpout
+writeeol
+prfalse
+meof
+mpout
+writeeol
+prfalse
+mlinelen
+linelen
+mpos
+pos
+mbytesprocessed
+pos
+start
+prtrue
+prbool
+nsimportmimeencode
+translatefilename
+nscstring
+infile
+nscstring
+outfile
+pruint
+pin
+pruint
+infile
+get
+len
+infile
+length
+len
+importcharset
+isusascii
+pin
+len
+pin
+len
+importtranslate
+convertstring
+infile
+outfile
+prtrue
+outfile
+infile
+prfalse
+prtrue
+outfile
+infile
+prfalse
+prbool
+nsimportmimeencode
+writefilename
+nscstring
+fname
+prbool
+wastrans
+ptag
+tagnum
+idx
+prbool
+result
+prtrue
+len
+nscstring
+numstr
+fname
+length
+idx
+strlen
+ptag
+result
+len
+strlen
+ptag
+wastrans
+fname
+charat
+idx
+len
+len
+fname
+charat
+idx
+len
+len
+result
+result
+mpout
+writestr
+result
+result
+mpout
+writestr
+ptag
+numstr
+numstr
+appendint
+tagnum
+result
+result
+mpout
+writestr
+numstr
+get
+wastrans
+result
+result
+mpout
+writestr
+result
+result
+mpout
+writestr
+result
+result
+mpout
+writedata
+pruint
+fname
+get
+idx
+len
+wastrans
+result
+result
+mpout
+writestr
+xd
+xa
+result
+result
+mpout
+writestr
+xd
+xa
+idx
+len
+tagnum
+idx
+fname
+length
+idx
+result
+result
+mpout
+writestr
+result
+result
+mpout
+writestr
+ptag
+numstr
+numstr
+appendint
+tagnum
+result
+result
+mpout
+writestr
+numstr
+get
+wastrans
+result
+result
+mpout
+writestr
+result
+result
+mpout
+writestr
+result
+result
+mpout
+writedata
+pruint
+fname
+get
+idx
+fname
+length
+idx
+wastrans
+result
+result
+mpout
+writestr
+xd
+xa
+result
+result
+mpout
+writestr
+xd
+xa
+result
+result
+mpout
+writestr
+result
+result
+mpout
+writestr
+ptag
+wastrans
+result
+result
+mpout
+writestr
+result
+result
+mpout
+writestr
+result
+result
+mpout
+writestr
+fname
+get
+wastrans
+result
+result
+mpout
+writestr
+xd
+xa
+result
+result
+mpout
+writestr
+xd
+xa
+result
+nsiimportmimeencodeimpl
+nsiimportmimeencodeimpl
+mpout
+nsnull
+mpencode
+nsnull
+nsiimportmimeencodeimpl
+nsiimportmimeencodeimpl
+mpout
+mpout
+mpencode
+mpencode
+nsimplisupports
+nsiimportmimeencodeimpl
+nsiimportmimeencode
+nsmethod
+nsiimportmimeencodeimpl
+encodefile
+nsifilespec
+infile
+nsifilespec
+outfile
+filename
+mimetype
+initialize
+infile
+outfile
+filename
+mimetype
+nsmethod
+nsiimportmimeencodeimpl
+dowork
+prbool
+done
+prbool
+retval
+done
+retval
+mpencode
+retval
+mpencode
+dowork
+done
+nsok
+nserrorfailure
+nsmethod
+nsiimportmimeencodeimpl
+numbytesprocessed
+print
+retval
+mpencode
+retval
+retval
+mpencode
+numbytesprocessed
+nsok
+nsmethod
+nsiimportmimeencodeimpl
+doencoding
+prbool
+retval
+retval
+mpencode
+prbool
+done
+prfalse
+mpencode
+dowork
+done
+done
+retval
+done
+nsok
+nserrorfailure
+nsmethod
+nsiimportmimeencodeimpl
+initialize
+nsifilespec
+infile
+nsifilespec
+outfile
+filename
+mimetype
+mpencode
+mpencode
+mpout
+mpout
+mpout
+importoutfile
+mpout
+initoutfile
+outfile
+mpencode
+nsimportmimeencode
+mpencode
+encodefile
+infile
+mpout
+filename
+mimetype
+nsok
\ No newline at end of file
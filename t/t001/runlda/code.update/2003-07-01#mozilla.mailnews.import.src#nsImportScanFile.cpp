@@ -0,0 +1,291 @@
+nscore
+nsifilespec
+nscrt
+nsimportscanfile
+importcharset
+nsimportscanfile
+nsimportscanfile
+mallocated
+prfalse
+meof
+prfalse
+mpfile
+nsnull
+mpbuf
+nsnull
+nsimportscanfile
+nsimportscanfile
+nsifilespec
+pspec
+pruint
+pbuf
+pruint
+sz
+mallocated
+prfalse
+meof
+prfalse
+initscan
+pspec
+pbuf
+sz
+nsimportscanfile
+nsimportscanfile
+mallocated
+cleanupscan
+nsifrelease
+mpfile
+prbool
+nsimportscanfile
+openscan
+nsifilespec
+pspec
+pruint
+bufsz
+bufsz
+bufsz
+mpbuf
+mpbuf
+pruint
+bufsz
+prbool
+open
+prfalse
+nsresult
+rv
+pspec
+isstreamopen
+open
+nsfailed
+rv
+open
+rv
+pspec
+openstreamforreading
+nsfailed
+rv
+mpbuf
+mpbuf
+nsnull
+prfalse
+mpfile
+pspec
+nsifaddref
+mpfile
+mallocated
+prtrue
+mbytesinbuf
+mpos
+mbufsz
+bufsz
+prtrue
+nsimportscanfile
+initscan
+nsifilespec
+pspec
+pruint
+pbuf
+pruint
+sz
+mpfile
+pspec
+nsifaddref
+pspec
+mpbuf
+pbuf
+mbufsz
+sz
+mbytesinbuf
+mpos
+nsimportscanfile
+cleanupscan
+nsifrelease
+mpfile
+mpfile
+nsnull
+mallocated
+mpbuf
+mpbuf
+mpbuf
+nsimportscanfile
+shiftbuffer
+pruint
+ptop
+pruint
+pcurrent
+mpos
+mbytesinbuf
+ptop
+mpbuf
+pcurrent
+ptop
+mpos
+pruint
+cnt
+mbytesinbuf
+mpos
+cnt
+ptop
+pcurrent
+ptop
+pcurrent
+cnt
+mbytesinbuf
+mpos
+mpos
+prbool
+nsimportscanfile
+fillbufferfromfile
+prbool
+eof
+prfalse
+nsresult
+rv
+mpfile
+eof
+eof
+eof
+prfalse
+shiftbuffer
+pruint
+cnt
+mbufsz
+mbytesinbuf
+print
+read
+pbuf
+mpbuf
+pbuf
+mbytesinbuf
+rv
+mpfile
+read
+pbuf
+print
+cnt
+read
+nsfailed
+rv
+prfalse
+eof
+prfalse
+rv
+mpfile
+eof
+eof
+eof
+meof
+prtrue
+mbytesinbuf
+cnt
+prtrue
+prbool
+nsimportscanfile
+scan
+prbool
+pdone
+prbool
+eof
+prfalse
+mpfile
+eof
+eof
+eof
+mpos
+mbytesinbuf
+scanbuffer
+pdone
+pdone
+prtrue
+prtrue
+fillbufferfromfile
+prfalse
+scanbuffer
+pdone
+prbool
+nsimportscanfile
+scanbuffer
+prbool
+prtrue
+prbool
+nsimportscanfilelines
+scanbuffer
+prbool
+pdone
+pruint
+pos
+mpos
+pruint
+max
+mbytesinbuf
+pruint
+pchar
+mpbuf
+pos
+pruint
+startpos
+pos
+max
+mneedeol
+pos
+max
+pchar
+importcharset
+ccrchar
+pchar
+importcharset
+clinefeedchar
+pos
+pchar
+mpos
+pos
+pos
+max
+mneedeol
+prfalse
+pos
+max
+pos
+max
+pchar
+importcharset
+ccrchar
+pchar
+importcharset
+clinefeedchar
+pos
+pchar
+mpos
+pos
+pos
+max
+startpos
+pos
+pos
+max
+pchar
+importcharset
+ccrchar
+pchar
+importcharset
+clinefeedchar
+pos
+pchar
+pos
+max
+meof
+mpos
+mpos
+pos
+mneedeol
+prtrue
+processline
+mpbuf
+startpos
+pos
+startpos
+pdone
+prfalse
+mpos
+pos
+prtrue
\ No newline at end of file
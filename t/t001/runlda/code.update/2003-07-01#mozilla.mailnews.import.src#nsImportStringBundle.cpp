@@ -0,0 +1,141 @@
+prprf
+prmem
+nscomptr
+nsreadableutils
+nsistringbundle
+nsimportstringbundle
+nsiservicemanager
+nsiproxyobjectmanager
+nsiuri
+nsdefinecid
+kproxyobjectmanagercid
+nsproxyeventmanagercid
+define
+importmsgsurl
+messenger
+locale
+importmsgs
+properties
+nsistringbundle
+nsimportstringbundle
+mpbundle
+nsnull
+nsistringbundle
+nsimportstringbundle
+getstringbundle
+mpbundle
+mpbundle
+nsresult
+rv
+propertyurl
+importmsgsurl
+nsistringbundle
+sbundle
+nsnull
+nscomptr
+nsistringbundleservice
+sbundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nssucceeded
+rv
+nsnull
+sbundleservice
+rv
+sbundleservice
+createbundle
+propertyurl
+sbundle
+mpbundle
+sbundle
+sbundle
+nsistringbundle
+nsimportstringbundle
+getstringbundleproxy
+mpbundle
+nsnull
+nsistringbundle
+strproxy
+nsnull
+nsresult
+rv
+nscomptr
+nsiproxyobjectmanager
+proxymgr
+dogetservice
+kproxyobjectmanagercid
+rv
+nssucceeded
+rv
+rv
+proxymgr
+getproxyforobject
+nsuithreadeventq
+nsgetiid
+nsistringbundle
+mpbundle
+proxysync
+proxyalways
+strproxy
+strproxy
+nsimportstringbundle
+getstringbyid
+print
+stringid
+nsstring
+result
+nsistringbundle
+pbundle
+prunichar
+ptrv
+getstringbyid
+stringid
+pbundle
+result
+ptrv
+freestring
+ptrv
+prunichar
+nsimportstringbundle
+getstringbyid
+print
+stringid
+nsistringbundle
+pbundle
+pbundle
+pbundle
+getstringbundle
+pbundle
+prunichar
+ptrv
+nsnull
+nsresult
+rv
+pbundle
+getstringfromid
+stringid
+ptrv
+nssucceeded
+rv
+ptrv
+ptrv
+nsstring
+resultstring
+nsliteralstring
+stringid
+resultstring
+appendint
+stringid
+resultstring
+append
+nsliteralstring
+tonewunicode
+resultstring
+nsimportstringbundle
+cleanup
+mpbundle
+mpbundle
+release
+mpbundle
+nsnull
\ No newline at end of file
@@ -0,0 +1,468 @@
+importoutfile
+nsimporttranslator
+importcharset
+prbool
+nsimporttranslator
+converttofile
+pruint
+pin
+pruint
+inlen
+importoutfile
+poutfile
+pruint
+pprocessed
+pprocessed
+pprocessed
+inlen
+poutfile
+writedata
+pin
+inlen
+cmhtranslator
+convertbuffer
+pruint
+pin
+pruint
+inlen
+pruint
+pout
+inlen
+importcharset
+isusascii
+pin
+importcharset
+isspecialchar
+pin
+importcharset
+isctlchar
+pin
+pin
+importcharset
+cspacechar
+pin
+pin
+pin
+pout
+pout
+importcharset
+bytetohex
+pin
+pout
+pout
+pout
+pin
+pout
+pin
+inlen
+pout
+prbool
+cmhtranslator
+converttofile
+pruint
+pin
+pruint
+inlen
+importoutfile
+poutfile
+pruint
+pprocessed
+pruint
+hex
+inlen
+importcharset
+isusascii
+pin
+importcharset
+isspecialchar
+pin
+importcharset
+isctlchar
+pin
+pin
+importcharset
+cspacechar
+pin
+pin
+pin
+poutfile
+writebyte
+prfalse
+importcharset
+bytetohex
+pin
+hex
+poutfile
+writedata
+hex
+prfalse
+poutfile
+writebyte
+pin
+prfalse
+pin
+inlen
+pprocessed
+pprocessed
+inlen
+prtrue
+prbool
+ctranslator
+converttofileq
+pruint
+pin
+pruint
+inlen
+importoutfile
+poutfile
+pruint
+pprocessed
+inlen
+prtrue
+maxlinelen
+curlinelen
+mstartlen
+prbool
+startline
+prtrue
+pruint
+hex
+inlen
+startline
+poutfile
+writestr
+prfalse
+poutfile
+writestr
+mcharset
+get
+prfalse
+poutfile
+writestr
+prfalse
+curlinelen
+mcharset
+length
+startline
+prfalse
+importcharset
+isusascii
+pin
+importcharset
+isspecialchar
+pin
+importcharset
+isctlchar
+pin
+pin
+importcharset
+cspacechar
+pin
+pin
+poutfile
+writebyte
+prfalse
+importcharset
+bytetohex
+pin
+hex
+poutfile
+writedata
+hex
+prfalse
+curlinelen
+poutfile
+writebyte
+pin
+prfalse
+curlinelen
+pin
+inlen
+curlinelen
+maxlinelen
+poutfile
+writestr
+prfalse
+inlen
+poutfile
+writestr
+xd
+xa
+prfalse
+startline
+prtrue
+curlinelen
+startline
+poutfile
+writestr
+prfalse
+pprocessed
+pprocessed
+inlen
+prtrue
+prbool
+ctranslator
+converttofile
+pruint
+pin
+pruint
+inlen
+importoutfile
+poutfile
+pruint
+pprocessed
+musequotedprintable
+converttofileq
+pin
+inlen
+poutfile
+pprocessed
+inlen
+prtrue
+maxlinelen
+curlinelen
+mstartlen
+prbool
+startline
+prtrue
+encodemax
+pruint
+pencoded
+pruint
+maxlinelen
+inlen
+startline
+poutfile
+writestr
+pencoded
+prfalse
+poutfile
+writestr
+mcharset
+get
+pencoded
+prfalse
+poutfile
+writestr
+pencoded
+prfalse
+curlinelen
+mcharset
+length
+startline
+prfalse
+encodemax
+maxlinelen
+curlinelen
+encodemax
+encodemax
+pruint
+encodemax
+inlen
+encodemax
+inlen
+umimeencode
+convertbuffer
+pin
+encodemax
+pencoded
+maxlinelen
+maxlinelen
+xd
+xa
+poutfile
+writestr
+pencoded
+pencoded
+prfalse
+pin
+encodemax
+inlen
+encodemax
+startline
+prtrue
+curlinelen
+poutfile
+writestr
+pencoded
+prfalse
+inlen
+poutfile
+writestr
+xd
+xa
+pencoded
+prfalse
+pencoded
+pprocessed
+pprocessed
+inlen
+prtrue
+pruint
+umimeencode
+getbuffersize
+pruint
+inbytes
+inbytes
+inbytes
+inbytes
+inbytes
+inbytes
+inbytes
+inbytes
+pruint
+gbase
+abcdefghijklmnopqrstuvwxyzabcdefghijklmnopqrstuvwxyz
+pruint
+umimeencode
+convertbuffer
+pruint
+pin
+pruint
+inlen
+pruint
+pout
+pruint
+maxlen
+pruint
+firstlinelen
+peolstr
+pruint
+pos
+pruint
+len
+pruint
+linelen
+pruint
+maxline
+firstlinelen
+eollen
+peolstr
+eollen
+strlen
+peolstr
+pos
+inlen
+pout
+gbase
+pin
+pout
+len
+linelen
+pout
+gbase
+pin
+pin
+xf
+pin
+pout
+len
+linelen
+pout
+gbase
+pin
+xf
+pin
+xc
+pin
+pout
+len
+linelen
+pout
+gbase
+pin
+xf
+pin
+pout
+len
+linelen
+pos
+linelen
+maxline
+linelen
+maxline
+maxlen
+peolstr
+memcpy
+pout
+peolstr
+eollen
+pout
+eollen
+len
+eollen
+pos
+inlen
+linelen
+maxline
+linelen
+maxline
+maxlen
+peolstr
+memcpy
+pout
+peolstr
+eollen
+pout
+eollen
+len
+eollen
+pos
+inlen
+pout
+gbase
+pin
+pout
+len
+pos
+pos
+inlen
+pout
+gbase
+pin
+pin
+xf
+pin
+pout
+pos
+len
+pos
+inlen
+pout
+gbase
+pin
+xf
+pin
+xc
+pin
+pout
+len
+pout
+gbase
+pin
+xf
+pos
+pout
+len
+pout
+gbase
+pin
+xf
+pout
+len
+pout
+pout
+len
+pout
+gbase
+pin
+pout
+len
+pout
+pout
+len
+pout
+pout
+len
+pout
+len
\ No newline at end of file
@@ -0,0 +1,1774 @@
+nscore
+nstextaddress
+nsiservicemanager
+nsiimportservice
+nsaddrdatabase
+nsabbasecid
+nsiabcard
+nsreadableutils
+nsiprefservice
+nsiprefbranch
+nsdefinecid
+kabcardpropertycid
+nsabcardpropertycid
+textdebuglog
+define
+kwhitespace
+define
+ktextaddressbuffersz
+plstr
+prmem
+prprf
+nstextaddress
+nstextaddress
+mdatabase
+nsnull
+mfieldmap
+nsnull
+mlfcount
+mcrcount
+nstextaddress
+nstextaddress
+nsifrelease
+mdatabase
+nsifrelease
+mfieldmap
+nstextaddress
+converttounicode
+pstr
+nsstring
+str
+mpservice
+mpservice
+dogetservice
+nsimportservicecontractid
+mpservice
+mpservice
+systemstringtounicode
+pstr
+str
+str
+assignwithconversion
+pstr
+nsresult
+nstextaddress
+importldif
+prbool
+pabort
+prunichar
+pname
+nsifilespec
+psrc
+nsiaddrdatabase
+pdb
+nsstring
+errors
+pruint
+pprogress
+nsifrelease
+mdatabase
+nsifrelease
+mfieldmap
+mdatabase
+pdb
+mfieldmap
+nsnull
+nsaddref
+mdatabase
+nsresult
+rv
+psrc
+openstreamforreading
+nsfailed
+rv
+importlog
+error
+opening
+address
+file
+reading
+rv
+rv
+parseldiffile
+psrc
+pprogress
+nsassertion
+nssucceeded
+rv
+parse
+ldif
+failed
+psrc
+closestream
+rv
+pdb
+commit
+nsaddrdbcommittype
+klargecommit
+rv
+nsresult
+nstextaddress
+importaddresses
+prbool
+pabort
+prunichar
+pname
+nsifilespec
+psrc
+nsiaddrdatabase
+pdb
+nsiimportfieldmap
+fieldmap
+nsstring
+errors
+pruint
+pprogress
+nsifrelease
+mdatabase
+nsifrelease
+mfieldmap
+mdatabase
+pdb
+mfieldmap
+fieldmap
+nsaddref
+mfieldmap
+nsaddref
+mdatabase
+nsresult
+rv
+psrc
+openstreamforreading
+nsfailed
+rv
+importlog
+error
+opening
+address
+file
+reading
+rv
+pline
+ktextaddressbuffersz
+prbool
+eof
+prfalse
+rv
+psrc
+eof
+eof
+nsfailed
+rv
+importlog
+error
+checking
+address
+file
+eof
+psrc
+closestream
+rv
+print
+loc
+print
+linelen
+pabort
+eof
+nssucceeded
+rv
+rv
+psrc
+tell
+loc
+nssucceeded
+rv
+pprogress
+pprogress
+pruint
+loc
+rv
+readrecord
+psrc
+pline
+ktextaddressbuffersz
+mdelim
+linelen
+nssucceeded
+rv
+rv
+processline
+pline
+strlen
+pline
+errors
+nsfailed
+rv
+importlog
+error
+processing
+text
+record
+rv
+psrc
+eof
+eof
+rv
+psrc
+closestream
+pline
+eof
+importlog
+error
+reading
+the
+address
+book
+didn
+reach
+the
+end
+nserrorfailure
+rv
+pdb
+commit
+nsaddrdbcommittype
+klargecommit
+rv
+nsresult
+nstextaddress
+readrecord
+nsifilespec
+psrc
+pline
+print
+buffersz
+delim
+print
+plinelen
+prbool
+wastruncated
+pread
+print
+linelen
+nsresult
+rv
+linelen
+linelen
+buffersz
+memcpy
+pline
+linelen
+xd
+xa
+linelen
+pline
+linelen
+wastruncated
+prfalse
+pread
+pline
+pread
+linelen
+rv
+psrc
+readline
+pread
+buffersz
+linelen
+wastruncated
+wastruncated
+pline
+buffersz
+importlog
+unable
+to
+read
+line
+from
+file
+buffer
+too
+small
+rv
+nserrorfailure
+nssucceeded
+rv
+linelen
+strlen
+pline
+nssucceeded
+rv
+islinecomplete
+pline
+linelen
+delim
+plinelen
+linelen
+rv
+nsresult
+nstextaddress
+readrecordnumber
+nsifilespec
+psrc
+pline
+print
+buffersz
+delim
+print
+plinelen
+print
+rnum
+print
+rindex
+nsresult
+rv
+psrc
+seek
+nsfailed
+rv
+rv
+prbool
+eof
+prfalse
+eof
+rindex
+rnum
+nsfailed
+rv
+readrecord
+psrc
+pline
+buffersz
+delim
+plinelen
+rv
+rindex
+rnum
+nsok
+rindex
+rv
+psrc
+eof
+eof
+nsfailed
+rv
+rv
+nserrorfailure
+prbool
+nstextaddress
+islinecomplete
+pline
+print
+len
+delim
+tab
+delim
+tab
+tab
+prbool
+quoted
+prfalse
+prbool
+wasdelim
+prfalse
+len
+len
+pline
+pline
+tab
+pline
+len
+len
+wasdelim
+pline
+quoted
+prtrue
+wasdelim
+prfalse
+pline
+len
+len
+quoted
+pline
+quoted
+prfalse
+pline
+len
+len
+quoted
+pline
+delim
+wasdelim
+prtrue
+wasdelim
+prfalse
+pline
+len
+quoted
+prfalse
+prtrue
+print
+nstextaddress
+countfields
+pline
+print
+maxlen
+delim
+pchar
+pline
+print
+len
+print
+count
+tab
+delim
+tab
+tab
+len
+maxlen
+pchar
+pchar
+tab
+len
+maxlen
+pchar
+len
+len
+maxlen
+pchar
+pchar
+len
+len
+maxlen
+pchar
+len
+pchar
+len
+maxlen
+pchar
+pchar
+len
+pchar
+len
+maxlen
+pchar
+len
+len
+maxlen
+pchar
+delim
+len
+pchar
+count
+pchar
+len
+count
+prbool
+nstextaddress
+getfield
+pline
+print
+maxlen
+print
+index
+nscstring
+field
+delim
+prbool
+result
+prfalse
+pchar
+pline
+print
+len
+tab
+field
+truncate
+delim
+tab
+tab
+index
+len
+maxlen
+pchar
+pchar
+tab
+len
+maxlen
+pchar
+len
+len
+maxlen
+pchar
+len
+len
+pchar
+len
+maxlen
+pchar
+pchar
+len
+pchar
+len
+maxlen
+pchar
+len
+maxlen
+pchar
+len
+len
+maxlen
+len
+maxlen
+pchar
+delim
+len
+pchar
+len
+maxlen
+index
+pchar
+len
+len
+maxlen
+result
+result
+prtrue
+len
+maxlen
+pchar
+pchar
+tab
+len
+pchar
+pstart
+pchar
+print
+flen
+prbool
+quoted
+prfalse
+pchar
+pstart
+flen
+pchar
+len
+flen
+len
+maxlen
+pchar
+pchar
+quoted
+prtrue
+len
+pchar
+flen
+len
+maxlen
+pchar
+len
+maxlen
+pchar
+delim
+pchar
+len
+flen
+flen
+result
+field
+append
+pstart
+flen
+field
+trim
+kwhitespace
+quoted
+field
+replacesubstring
+result
+nstextaddress
+sanitizesingleline
+nscstring
+val
+val
+replacesubstring
+xd
+xa
+val
+replacechar
+val
+replacechar
+nsresult
+nstextaddress
+determinedelim
+nsifilespec
+psrc
+nsresult
+rv
+psrc
+openstreamforreading
+nsfailed
+rv
+importlog
+error
+opening
+address
+file
+reading
+rv
+pline
+ktextaddressbuffersz
+prbool
+eof
+prfalse
+rv
+psrc
+eof
+eof
+nsfailed
+rv
+importlog
+error
+checking
+address
+file
+eof
+psrc
+closestream
+rv
+prbool
+wastruncated
+prfalse
+print
+linelen
+print
+linecount
+print
+tabcount
+print
+commacount
+print
+tablines
+print
+commalines
+eof
+nssucceeded
+rv
+linecount
+wastruncated
+prfalse
+rv
+psrc
+readline
+pline
+ktextaddressbuffersz
+wastruncated
+wastruncated
+pline
+ktextaddressbuffersz
+nssucceeded
+rv
+linelen
+strlen
+pline
+tabcount
+countfields
+pline
+linelen
+commacount
+countfields
+pline
+linelen
+tabcount
+commacount
+tablines
+commacount
+commalines
+rv
+psrc
+eof
+eof
+linecount
+rv
+psrc
+closestream
+pline
+tablines
+commalines
+mdelim
+mdelim
+nsok
+nsresult
+nstextaddress
+processline
+pline
+print
+len
+nsstring
+errors
+mfieldmap
+importlog
+error
+text
+needs
+field
+map
+nserrorfailure
+nsresult
+rv
+nsimdbrow
+newrow
+nsnull
+nsstring
+uval
+nscstring
+fieldval
+print
+fieldnum
+print
+numfields
+prbool
+active
+rv
+mfieldmap
+getmapsize
+numfields
+print
+numfields
+nssucceeded
+rv
+active
+prfalse
+rv
+mfieldmap
+getfieldmap
+fieldnum
+nssucceeded
+rv
+rv
+mfieldmap
+getfieldactive
+active
+nssucceeded
+rv
+active
+getfield
+pline
+len
+fieldval
+mdelim
+fieldval
+isempty
+newrow
+rv
+mdatabase
+getnewrow
+newrow
+nsfailed
+rv
+importlog
+error
+getting
+address
+database
+row
+newrow
+converttounicode
+fieldval
+get
+uval
+rv
+mfieldmap
+setfieldvalue
+mdatabase
+newrow
+fieldnum
+uval
+get
+active
+importlog
+error
+getting
+field
+map
+index
+ld
+nssucceeded
+rv
+newrow
+rv
+mdatabase
+addcardrowtodb
+newrow
+rv
+sldiffields
+objectclass
+sn
+dn
+cn
+givenname
+mail
+nsnull
+define
+kmaxldiflen
+nsresult
+nstextaddress
+isldiffile
+nsifilespec
+psrc
+prbool
+pisldif
+pisldif
+prfalse
+nsresult
+rv
+psrc
+openstreamforreading
+nsfailed
+rv
+importlog
+error
+opening
+address
+file
+reading
+rv
+pline
+ktextaddressbuffersz
+prbool
+eof
+prfalse
+rv
+psrc
+eof
+eof
+nsfailed
+rv
+importlog
+error
+checking
+address
+file
+eof
+psrc
+closestream
+rv
+prbool
+wastruncated
+prfalse
+print
+linelen
+print
+linecount
+print
+ldiffields
+field
+kmaxldiflen
+print
+flen
+pchar
+print
+reccount
+print
+prbool
+gotldif
+prfalse
+eof
+nssucceeded
+rv
+linecount
+wastruncated
+prfalse
+rv
+psrc
+readline
+pline
+ktextaddressbuffersz
+wastruncated
+wastruncated
+pline
+ktextaddressbuffersz
+nssucceeded
+rv
+linelen
+strlen
+pline
+pchar
+pline
+linelen
+gotldif
+reccount
+gotldif
+prfalse
+linelen
+pchar
+pchar
+flen
+linelen
+flen
+kmaxldiflen
+pchar
+field
+flen
+pchar
+pchar
+flen
+linelen
+field
+flen
+linelen
+pchar
+flen
+kmaxldiflen
+sldiffields
+nscrt
+strcasecmp
+sldiffields
+field
+ldiffields
+gotldif
+prtrue
+rv
+psrc
+eof
+eof
+linecount
+gotldif
+reccount
+rv
+psrc
+closestream
+pline
+reccount
+ldiffields
+reccount
+ldiffields
+pisldif
+prtrue
+nsok
+define
+right
+define
+right
+xf
+define
+continuedlinemarker
+define
+isspace
+val
+intn
+val
+xf
+intn
+val
+isspace
+intn
+val
+bnib
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xe
+xff
+xff
+xff
+xf
+xa
+xb
+xc
+xd
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xa
+xb
+xc
+xd
+xe
+xf
+xff
+xff
+xff
+xff
+xff
+xff
+xa
+xb
+xc
+xd
+xe
+xf
+xa
+xb
+xc
+xd
+xe
+xf
+xff
+xff
+xff
+xff
+xff
+nsresult
+nstextaddress
+strparseline
+line
+type
+value
+vlen
+stop
+nib
+isspace
+line
+line
+type
+line
+line
+nserrorfailure
+line
+isspace
+isspace
+nserrorfailure
+continuedlinemarker
+value
+stop
+plstrchr
+vlen
+stop
+vlen
+bnib
+xf
+xf
+nserrorfailure
+nib
+bnib
+xf
+nib
+nib
+bnib
+xf
+nib
+nib
+right
+vlen
+nib
+bnib
+xf
+nib
+nib
+right
+vlen
+nib
+bnib
+xf
+nib
+vlen
+vlen
+nsok
+nstextaddress
+strgetline
+next
+linestr
+next
+nsnull
+next
+next
+nsnull
+linestr
+next
+next
+plstrchr
+next
+next
+isspace
+next
+continuedlinemarker
+next
+continuedlinemarker
+next
+linestr
+nsresult
+nstextaddress
+getldifstringrecord
+buf
+print
+len
+print
+stoppos
+stoppos
+len
+stoppos
+buf
+stoppos
+xa
+mlfcount
+xd
+mcrcount
+xa
+xd
+mlfcount
+mcrcount
+mldifline
+append
+mlfcount
+mcrcount
+mlfcount
+mlfcount
+mcrcount
+nsok
+mlfcount
+mcrcount
+mldifline
+append
+mldifline
+append
+mlfcount
+mcrcount
+stoppos
+len
+mlfcount
+mcrcount
+mlfcount
+mlfcount
+mcrcount
+nsok
+nserrorfailure
+nsresult
+nstextaddress
+parseldiffile
+nsifilespec
+psrc
+pruint
+pprogress
+buf
+pbuf
+buf
+print
+startpos
+print
+len
+prbool
+beof
+prfalse
+nsvoidarray
+listposarray
+nsvoidarray
+listsizearray
+print
+savedstartpos
+print
+filepos
+nssucceeded
+psrc
+eof
+beof
+beof
+nssucceeded
+psrc
+read
+pbuf
+print
+buf
+len
+len
+startpos
+nssucceeded
+getldifstringrecord
+buf
+len
+startpos
+mldifline
+find
+groupofnames
+knotfound
+addldifrowtodatabase
+prfalse
+listposarray
+appendelement
+savedstartpos
+listsizearray
+appendelement
+filepos
+startpos
+savedstartpos
+clearldifrecordbuffer
+savedstartpos
+filepos
+startpos
+filepos
+len
+pprogress
+pruint
+filepos
+mldifline
+isempty
+mldifline
+find
+groupofnames
+knotfound
+addldifrowtodatabase
+prfalse
+print
+pos
+size
+print
+listtotal
+listposarray
+count
+listbuf
+clearldifrecordbuffer
+listtotal
+pos
+nsptrtoint
+listposarray
+elementat
+size
+nsptrtoint
+listsizearray
+elementat
+nssucceeded
+psrc
+seek
+pos
+listbuf
+prmalloc
+size
+listbuf
+nssucceeded
+psrc
+read
+listbuf
+size
+len
+len
+startpos
+nssucceeded
+getldifstringrecord
+listbuf
+len
+startpos
+mldifline
+find
+groupofnames
+knotfound
+addldifrowtodatabase
+prtrue
+nssucceeded
+psrc
+seek
+prfreeif
+listbuf
+nsok
+nstextaddress
+addldifrowtodatabase
+prbool
+bislist
+mldifline
+isempty
+mlfcount
+mcrcount
+nscomptr
+nsimdbrow
+newrow
+mdatabase
+bislist
+mdatabase
+getnewlistrow
+getteraddrefs
+newrow
+mdatabase
+getnewrow
+getteraddrefs
+newrow
+newrow
+cursor
+tonewcstring
+mldifline
+savecursor
+cursor
+line
+typeslot
+valueslot
+length
+line
+strgetline
+cursor
+nsnull
+strparseline
+line
+typeslot
+valueslot
+length
+addldifcoltodatabase
+newrow
+typeslot
+valueslot
+bislist
+nsmemory
+free
+savecursor
+mdatabase
+addcardrowtodb
+newrow
+bislist
+mdatabase
+addlistdirnode
+newrow
+clearldifrecordbuffer
+nstextaddress
+clearldifrecordbuffer
+mldifline
+isempty
+mldifline
+truncate
+mlfcount
+mcrcount
+nstextaddress
+addldifcoltodatabase
+nsimdbrow
+newrow
+typeslot
+valueslot
+prbool
+bislist
+nscautostring
+coltype
+typeslot
+nscautostring
+column
+valueslot
+tolowercase
+coltype
+mdbu
+firstbyte
+mdbu
+coltype
+get
+firstbyte
+coltype
+equals
+birthyear
+mdatabase
+addbirthyear
+newrow
+column
+get
+coltype
+equals
+cn
+coltype
+equals
+commonname
+bislist
+mdatabase
+addlistname
+newrow
+column
+get
+mdatabase
+adddisplayname
+newrow
+column
+get
+coltype
+equals
+countryname
+mdatabase
+addworkcountry
+newrow
+column
+get
+coltype
+equals
+cellphone
+mdatabase
+addcellularnumber
+newrow
+column
+get
+coltype
+equals
+carphone
+mdatabase
+addcellularnumber
+newrow
+column
+get
+coltype
+equals
+custom
+mdatabase
+addcustom
+newrow
+column
+get
+coltype
+equals
+custom
+mdatabase
+addcustom
+newrow
+column
+get
+coltype
+equals
+custom
+mdatabase
+addcustom
+newrow
+column
+get
+coltype
+equals
+custom
+mdatabase
+addcustom
+newrow
+column
+get
+coltype
+equals
+company
+mdatabase
+addcompany
+newrow
+column
+get
+coltype
+equals
+mdatabase
+addworkcountry
+newrow
+column
+get
+coltype
+equals
+description
+bislist
+mdatabase
+addlistdescription
+newrow
+column
+get
+mdatabase
+addnotes
+newrow
+column
+get
+coltype
+equals
+department
+mdatabase
+adddepartment
+newrow
+column
+get
+coltype
+equals
+fax
+coltype
+equals
+facsimiletelephonenumber
+mdatabase
+addfaxnumber
+newrow
+column
+get
+coltype
+equals
+givenname
+mdatabase
+addfirstname
+newrow
+column
+get
+coltype
+equals
+homephone
+mdatabase
+addhomephone
+newrow
+column
+get
+coltype
+equals
+homepostaladdress
+mdatabase
+addhomeaddress
+newrow
+column
+get
+coltype
+equals
+homeurl
+mdatabase
+addwebpage
+newrow
+column
+get
+coltype
+equals
+coltype
+equals
+locality
+mdatabase
+addworkcity
+newrow
+column
+get
+coltype
+equals
+mail
+mdatabase
+addprimaryemail
+newrow
+column
+get
+coltype
+equals
+mobile
+mdatabase
+addcellularnumber
+newrow
+column
+get
+coltype
+equals
+member
+bislist
+mdatabase
+addldiflistmember
+newrow
+column
+get
+coltype
+find
+mozabldifprefix
+mdatabase
+addrowvalue
+newrow
+coltype
+nsconvertutftoucs
+column
+coltype
+equals
+notes
+mdatabase
+addnotes
+newrow
+column
+get
+coltype
+equals
+objectclass
+coltype
+equals
+ou
+coltype
+equals
+orgunit
+mdatabase
+adddepartment
+newrow
+column
+get
+coltype
+equals
+mdatabase
+addcompany
+newrow
+column
+get
+coltype
+equals
+postalcode
+mdatabase
+addworkzipcode
+newrow
+column
+get
+coltype
+equals
+postofficebox
+mdatabase
+addworkaddress
+newrow
+column
+get
+coltype
+equals
+postaladdress
+mdatabase
+addworkaddress
+newrow
+column
+get
+coltype
+equals
+pager
+coltype
+equals
+pagerphone
+mdatabase
+addpagernumber
+newrow
+column
+get
+coltype
+equals
+region
+mdatabase
+addworkstate
+newrow
+column
+get
+coltype
+equals
+sn
+coltype
+equals
+surname
+mdatabase
+addlastname
+newrow
+column
+get
+coltype
+equals
+streetaddress
+mdatabase
+addworkaddress
+newrow
+column
+get
+coltype
+equals
+st
+mdatabase
+addworkstate
+newrow
+column
+get
+coltype
+equals
+title
+mdatabase
+addjobtitle
+newrow
+column
+get
+coltype
+equals
+telephonenumber
+mdatabase
+addworkphone
+newrow
+column
+get
+coltype
+equals
+uniquemember
+bislist
+mdatabase
+addldiflistmember
+newrow
+column
+get
+coltype
+equals
+workurl
+mdatabase
+addwebpage
+newrow
+column
+get
+coltype
+equals
+xmozillanickname
+bislist
+mdatabase
+addlistnickname
+newrow
+column
+get
+mdatabase
+addnickname
+newrow
+column
+get
+coltype
+equals
+xmozillausehtmlmail
+tolowercase
+column
+column
+equals
+mdatabase
+addprefermailformat
+newrow
+nsiabprefermailformat
+html
+column
+equals
+mdatabase
+addprefermailformat
+newrow
+nsiabprefermailformat
+plaintext
+mdatabase
+addprefermailformat
+newrow
+nsiabprefermailformat
+unknown
+coltype
+equals
+zip
+mdatabase
+addworkzipcode
+newrow
+column
+get
\ No newline at end of file
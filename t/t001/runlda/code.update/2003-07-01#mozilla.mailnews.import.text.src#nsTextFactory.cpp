@@ -0,0 +1,88 @@
+nscomptr
+nsimodule
+nsigenericfactory
+nsiservicemanager
+nsiimportservice
+nstextimport
+nscrt
+nsicategorymanager
+nsxpidlstring
+nstextstringbundle
+textdebuglog
+nsdefinecid
+ktextimportcid
+nstextimportcid
+nsmethod
+textregister
+nsicomponentmanager
+acompmgr
+nsifile
+apath
+registrylocation
+componenttype
+nsmodulecomponentinfo
+info
+nsresult
+rv
+nscomptr
+nsicategorymanager
+catman
+dogetservice
+nscategorymanagercontractid
+rv
+nssucceeded
+rv
+nsxpidlcstring
+replace
+thecid
+ktextimportcid
+tostring
+rv
+catman
+addcategoryentry
+mailnewsimport
+thecid
+ktextsupportsstring
+prtrue
+prtrue
+gettercopies
+replace
+nscrt
+free
+thecid
+nsfailed
+rv
+importlog
+error
+problem
+registering
+text
+import
+component
+in
+the
+category
+manager
+rv
+nsgenericfactoryconstructor
+nstextimport
+nsmodulecomponentinfo
+components
+text
+import
+component
+nstextimportcid
+text
+nstextimportconstructor
+textregister
+nsnull
+prstaticcallback
+textmoduledtor
+nsimodule
+self
+nstextstringbundle
+cleanup
+nsimplnsgetmodulewithdtor
+nstextimportmodule
+components
+textmoduledtor nsresult
\ No newline at end of file
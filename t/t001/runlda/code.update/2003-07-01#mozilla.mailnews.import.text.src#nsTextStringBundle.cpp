@@ -0,0 +1,141 @@
+prprf
+prmem
+nscomptr
+nsreadableutils
+nsistringbundle
+nstextstringbundle
+nsiservicemanager
+nsiproxyobjectmanager
+nsiuri
+nsdefinecid
+kproxyobjectmanagercid
+nsproxyeventmanagercid
+nsistringbundle
+nstextstringbundle
+mpbundle
+nsnull
+define
+textmsgsurl
+messenger
+locale
+textimportmsgs
+properties
+nsistringbundle
+nstextstringbundle
+getstringbundle
+mpbundle
+mpbundle
+nsresult
+rv
+propertyurl
+textmsgsurl
+nsistringbundle
+sbundle
+nsnull
+nscomptr
+nsistringbundleservice
+sbundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nssucceeded
+rv
+nsnull
+sbundleservice
+rv
+sbundleservice
+createbundle
+propertyurl
+sbundle
+mpbundle
+sbundle
+sbundle
+nsistringbundle
+nstextstringbundle
+getstringbundleproxy
+mpbundle
+nsnull
+nsistringbundle
+strproxy
+nsnull
+nsresult
+rv
+nscomptr
+nsiproxyobjectmanager
+proxymgr
+dogetservice
+kproxyobjectmanagercid
+rv
+nssucceeded
+rv
+rv
+proxymgr
+getproxyforobject
+nsuithreadeventq
+nsgetiid
+nsistringbundle
+mpbundle
+proxysync
+proxyalways
+strproxy
+strproxy
+nstextstringbundle
+getstringbyid
+print
+stringid
+nsstring
+result
+nsistringbundle
+pbundle
+prunichar
+ptrv
+getstringbyid
+stringid
+pbundle
+result
+ptrv
+freestring
+ptrv
+prunichar
+nstextstringbundle
+getstringbyid
+print
+stringid
+nsistringbundle
+pbundle
+pbundle
+pbundle
+getstringbundle
+pbundle
+prunichar
+ptrv
+nsnull
+nsresult
+rv
+pbundle
+getstringfromid
+stringid
+ptrv
+nssucceeded
+rv
+ptrv
+ptrv
+nsstring
+resultstring
+nsliteralstring
+stringid
+resultstring
+appendint
+stringid
+resultstring
+append
+nsliteralstring
+tonewunicode
+resultstring
+nstextstringbundle
+cleanup
+mpbundle
+mpbundle
+release
+mpbundle
+nsnull
\ No newline at end of file
@@ -0,0 +1,365 @@
+msgcore
+nslocalutils
+nsiservicemanager
+prsystem
+nscomptr
+nsreadableutils
+nsescape
+nsifilespec
+nsimsgaccountmanager
+nsimsgincomingserver
+nsipopincomingserver
+nsinoincomingserver
+nsmsgbasecid
+nsmsgutils
+nsresult
+nsgetmailboxserver
+username
+hostname
+nsimsgincomingserver
+aresult
+nsresult
+rv
+nsok
+nsunescape
+nsconstcast
+username
+nsunescape
+nsconstcast
+hostname
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsimsgincomingserver
+noneserver
+rv
+accountmanager
+findserver
+username
+hostname
+none
+getteraddrefs
+noneserver
+nssucceeded
+rv
+aresult
+noneserver
+nsaddref
+aresult
+rv
+ifdef
+havemovemail
+nscomptr
+nsimsgincomingserver
+movemailserver
+rv
+accountmanager
+findserver
+username
+hostname
+movemail
+getteraddrefs
+movemailserver
+nssucceeded
+rv
+aresult
+movemailserver
+nsaddref
+aresult
+rv
+endif
+nscomptr
+nsimsgincomingserver
+server
+nsfailed
+rv
+rv
+accountmanager
+findserver
+username
+hostname
+pop
+getteraddrefs
+server
+nsfailed
+rv
+rv
+accountmanager
+findserver
+username
+hostname
+imap
+getteraddrefs
+server
+nssucceeded
+rv
+aresult
+server
+nsaddref
+aresult
+rv
+rv
+nsresult
+nslocaluriserver
+uristr
+nsimsgincomingserver
+aresult
+nsresult
+rv
+curpos
+uristr
+curpos
+curpos
+curpos
+curpos
+curpos
+atpos
+plstrchr
+curpos
+nsassertion
+atpos
+nsnull
+uri
+with
+no
+userid
+length
+atpos
+length
+atpos
+curpos
+length
+username
+length
+username
+nserroroutofmemory
+atpos
+plstrncpyz
+username
+curpos
+length
+curpos
+atpos
+curpos
+username
+slashpos
+plstrchr
+curpos
+slashpos
+length
+slashpos
+curpos
+length
+plstrlen
+curpos
+hostname
+length
+hostname
+nserroroutofmemory
+plstrncpyz
+hostname
+curpos
+length
+nscomptr
+nsimsgincomingserver
+server
+rv
+nsgetmailboxserver
+username
+hostname
+getteraddrefs
+server
+username
+hostname
+aresult
+server
+nsifaddref
+aresult
+rv
+nsresult
+nslocaluripath
+rooturi
+uristr
+nsfilespec
+pathresult
+nsresult
+rv
+plstrcmp
+rooturi
+kmailboxrooturi
+plstrcmp
+rooturi
+kmailboxmessagerooturi
+pathresult
+nsnull
+nserrorfailure
+nscautostring
+uri
+uristr
+uri
+find
+rooturi
+nserrorfailure
+nscomptr
+nsimsgincomingserver
+server
+rv
+nslocaluriserver
+uristr
+getteraddrefs
+server
+nsfailed
+rv
+rv
+nscomptr
+nsifilespec
+localpath
+rv
+server
+getlocalpath
+getteraddrefs
+localpath
+nssucceeded
+rv
+localpath
+getfilespec
+pathresult
+curpos
+uristr
+plstrlen
+rooturi
+curpos
+curpos
+curpos
+curpos
+curpos
+curpos
+nsautostring
+sbdsep
+rv
+nsgetmailfolderseparator
+sbdsep
+nscautostring
+newpath
+unescaped
+nscrt
+strdup
+curpos
+unescaped
+nsunescape
+unescaped
+nsmsgcreatepathstringfromfolderuri
+unescaped
+newpath
+prfree
+unescaped
+nsmsgcreatepathstringfromfolderuri
+curpos
+newpath
+pathresult
+newpath
+get
+nsok
+nsresult
+nsparselocalmessageuri
+uri
+nscstring
+folderuri
+pruint
+key
+key
+nserrornullpointer
+nscautostring
+uristr
+uri
+print
+keyseparator
+uristr
+findchar
+keyseparator
+print
+keyendseparator
+uristr
+findcharinset
+keyseparator
+nsautostring
+folderpath
+uristr
+left
+folderuri
+keyseparator
+folderuri
+cut
+nscautostring
+keystr
+keyendseparator
+uristr
+mid
+keystr
+keyseparator
+keyendseparator
+keyseparator
+uristr
+right
+keystr
+uristr
+length
+keyseparator
+print
+errorcode
+key
+keystr
+tointeger
+errorcode
+errorcode
+nserrorfailure
+nsresult
+nsbuildlocalmessageuri
+baseuri
+pruint
+key
+nscstring
+uri
+uri
+append
+baseuri
+uri
+append
+uri
+appendint
+key
+nsok
+nsresult
+nscreatelocalbasemessageuri
+baseuri
+basemessageuri
+basemessageuri
+nserrornullpointer
+nscautostring
+tailuri
+baseuri
+tailuri
+find
+kmailboxrooturi
+tailuri
+cut
+plstrlen
+kmailboxrooturi
+nscautostring
+baseuristr
+kmailboxmessagerooturi
+baseuristr
+tailuri
+basemessageuri
+tonewcstring
+baseuristr
+basemessageuri
+nserroroutofmemory
+nsok nsresult
\ No newline at end of file
@@ -0,0 +1,1037 @@
+ifdef
+mozlogging
+define
+forceprlog
+endif
+msgcore
+nsmailboxprotocol
+nscore
+nsioutputstream
+nsimsgdatabase
+nsimsghdr
+nsmsglinebuffer
+nsmsgdbcid
+nsimsgmailnewsurl
+nsicopymsgstreamlistener
+nsmsgmessageflags
+prtime
+prlog
+prerror
+prprf
+nspr
+nsfilestream
+prlogmoduleinfo
+mailbox
+nsifilestreams
+nsistreamtransportservice
+nsistreamconverterservice
+nsiioservice
+nsxpidlstring
+nsnetutil
+nsimsgwindow
+nsimimeheaders
+nsimsgmdngenerator
+nsdefinecid
+kcmaildb
+nsmaildbcid
+nsdefinecid
+kioservicecid
+nsioservicecid
+define
+outputbuffersize
+nsmailboxprotocol
+nsmailboxprotocol
+nsiuri
+auri
+nsmsgprotocol
+auri
+mlinestreambuffer
+nsnull
+mailbox
+mailbox
+prnewlogmodule
+mailbox
+nsmailboxprotocol
+nsmailboxprotocol
+mlinestreambuffer
+nsimethodimp
+nsmailboxprotocol
+getcontentlength
+print
+acontentlength
+acontentlength
+mmailboxaction
+nsimailboxurl
+actionparsemailbox
+mrequest
+nsok
+nscomptr
+nsichannel
+info
+doqueryinterface
+mrequest
+info
+info
+getcontentlength
+acontentlength
+nsok
+mrunningurl
+pruint
+msgsize
+mrunningurl
+getmessagesize
+msgsize
+acontentlength
+print
+msgsize
+nsok
+nsresult
+nsmailboxprotocol
+openmultiplemsgtransport
+pruint
+offset
+print
+size
+nsresult
+rv
+nsdefinecid
+kstreamtransportservicecid
+nsstreamtransportservicecid
+nscomptr
+nsistreamtransportservice
+serv
+dogetservice
+kstreamtransportservicecid
+rv
+nsensuresuccess
+rv
+rv
+rv
+serv
+createinputtransport
+mmultiplemsgmovecopystream
+offset
+size
+prfalse
+getteraddrefs
+mtransport
+rv
+nsresult
+nsmailboxprotocol
+openfilesocketforreuse
+nsiuri
+aurl
+pruint
+astartposition
+print
+areadcount
+nsensureargpointer
+aurl
+nsresult
+rv
+nsok
+mreadcount
+areadcount
+nscomptr
+nsifile
+file
+rv
+getfilefromurl
+aurl
+getteraddrefs
+file
+nsensuresuccess
+rv
+rv
+nscomptr
+nsifileinputstream
+filestream
+docreateinstance
+nslocalfileinputstreamcontractid
+rv
+nsensuresuccess
+rv
+rv
+mmultiplemsgmovecopystream
+doqueryinterface
+filestream
+rv
+nsensuresuccess
+rv
+rv
+filestream
+init
+file
+prrdonly
+prfalse
+rv
+openmultiplemsgtransport
+astartposition
+areadcount
+msocketisopen
+prfalse
+rv
+nsresult
+nsmailboxprotocol
+initialize
+nsiuri
+aurl
+nsprecondition
+aurl
+invalid
+url
+passed
+into
+mailbox
+protocol
+nsresult
+rv
+nsok
+aurl
+rv
+aurl
+queryinterface
+nsgetiid
+nsimailboxurl
+getteraddrefs
+mrunningurl
+nssucceeded
+rv
+mrunningurl
+nscomptr
+nsimsgwindow
+window
+rv
+mrunningurl
+getmailboxaction
+mmailboxaction
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+mailnewsurl
+getmsgwindow
+getteraddrefs
+window
+window
+window
+setstopped
+prfalse
+mmailboxaction
+nsimailboxurl
+actionparsemailbox
+rv
+openfilesocket
+aurl
+rv
+setupmessageextraction
+nsfailed
+rv
+rv
+nsmsgkey
+amsgkey
+pruint
+amsgsize
+rv
+mrunningurl
+getmessagekey
+amsgkey
+nsassertion
+nssucceeded
+rv
+oops
+messed
+something
+up
+rv
+mrunningurl
+getmessagesize
+amsgsize
+nsassertion
+nssucceeded
+rv
+oops
+messed
+something
+up
+runningmultiplemsgurl
+rv
+openfilesocketforreuse
+aurl
+pruint
+amsgkey
+amsgsize
+mprogresseventsink
+nsnull
+rv
+openfilesocket
+aurl
+pruint
+amsgkey
+amsgsize
+nsassertion
+nssucceeded
+rv
+oops
+messed
+something
+up
+defined
+xpmac
+mlinestreambuffer
+nsmsglinestreambuffer
+outputbuffersize
+prtrue
+prtrue
+mlinestreambuffer
+nsmsglinestreambuffer
+outputbuffersize
+prtrue
+endif
+mnextstate
+mailboxreadfolder
+minitialstate
+mailboxreadfolder
+mcurrentprogress
+nsnewfilespecwithspec
+mtempmsgfilespec
+getteraddrefs
+mtempmessagefile
+rv
+nsimethodimp
+nsmailboxprotocol
+onstartrequest
+nsirequest
+request
+nsisupports
+ctxt
+mnextstate
+mailboxreadfolder
+mmailboxparser
+mmailboxparser
+onstartrequest
+request
+ctxt
+nsmsgprotocol
+onstartrequest
+request
+ctxt
+prbool
+nsmailboxprotocol
+runningmultiplemsgurl
+mmailboxaction
+nsimailboxurl
+actioncopymessage
+mmailboxaction
+nsimailboxurl
+actionmovemessage
+pruint
+nummovecopymsgs
+nsresult
+rv
+mrunningurl
+getnummovecopymsgs
+nummovecopymsgs
+nssucceeded
+rv
+nummovecopymsgs
+prtrue
+prfalse
+nsimethodimp
+nsmailboxprotocol
+onstoprequest
+nsirequest
+request
+nsisupports
+ctxt
+nsresult
+astatus
+nsresult
+rv
+mnextstate
+mailboxreadfolder
+mmailboxparser
+mmailboxparser
+onstoprequest
+request
+ctxt
+astatus
+mnextstate
+mailboxreadmessage
+donereadingmessage
+prbool
+stopped
+prfalse
+mrunningurl
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+nscomptr
+nsimsgwindow
+window
+mailnewsurl
+getmsgwindow
+getteraddrefs
+window
+window
+window
+getstopped
+stopped
+stopped
+nssucceeded
+astatus
+mmailboxaction
+nsimailboxurl
+actioncopymessage
+mmailboxaction
+nsimailboxurl
+actionmovemessage
+pruint
+nummovecopymsgs
+pruint
+curmovecopymsgindex
+rv
+mrunningurl
+getnummovecopymsgs
+nummovecopymsgs
+nssucceeded
+rv
+nummovecopymsgs
+mrunningurl
+getcurmovecopymsgindex
+curmovecopymsgindex
+curmovecopymsgindex
+nummovecopymsgs
+msuppresslistenernotifications
+mchannellistener
+nscomptr
+nsicopymessagestreamlistener
+listener
+doqueryinterface
+mchannellistener
+rv
+listener
+listener
+endcopy
+ctxt
+astatus
+listener
+startmessage
+mrunningurl
+setcurmovecopymsgindex
+curmovecopymsgindex
+nscomptr
+nsimsgdbhdr
+nextmsg
+rv
+mrunningurl
+getmovecopymsghdrforindex
+curmovecopymsgindex
+getteraddrefs
+nextmsg
+nssucceeded
+rv
+nextmsg
+pruint
+msgsize
+nsmsgkey
+msgkey
+nscomptr
+nsimsgfolder
+msgfolder
+nextmsg
+getfolder
+getteraddrefs
+msgfolder
+msgfolder
+nsxpidlcstring
+uri
+msgfolder
+geturiformsg
+nextmsg
+gettercopies
+uri
+nscomptr
+nsimsgmessageurl
+msgurl
+doqueryinterface
+mrunningurl
+msgurl
+msgurl
+setoriginalspec
+uri
+msgurl
+seturi
+uri
+nextmsg
+getmessagekey
+msgkey
+nextmsg
+getmessagesize
+msgsize
+nscomptr
+nsisupports
+urlsupports
+doqueryinterface
+mrunningurl
+mtransport
+minputstream
+moutputstream
+rv
+openmultiplemsgtransport
+msgkey
+msgsize
+nssucceeded
+rv
+minputstream
+rv
+mtransport
+openinputstream
+getteraddrefs
+minputstream
+nssucceeded
+rv
+nscomptr
+nsiinputstreampump
+pump
+rv
+nsnewinputstreampump
+getteraddrefs
+pump
+minputstream
+nssucceeded
+rv
+rv
+pump
+asyncread
+urlsupports
+nssucceeded
+rv
+mrequest
+pump
+nsassertion
+nssucceeded
+rv
+asyncread
+failed
+mloadgroup
+mloadgroup
+removerequest
+nsstaticcast
+nsirequest
+nsnull
+astatus
+msocketisopen
+prtrue
+astatus
+mnextstate
+mailboxdone
+prlog
+mailbox
+prlogalways
+mailbox
+done
+mmultiplemsgmovecopystream
+mmultiplemsgmovecopystream
+close
+mmultiplemsgmovecopystream
+nsnull
+nsmsgprotocol
+onstoprequest
+request
+ctxt
+astatus
+closesocket
+print
+nsmailboxprotocol
+donereadingmessage
+nsresult
+rv
+nsok
+mmailboxaction
+nsimailboxurl
+actionsavemessagetodisk
+mtempmessagefile
+rv
+mtempmessagefile
+closestream
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+mrunningurl
+rv
+nsensuresuccess
+rv
+rv
+nscautostring
+querystr
+rv
+msgurl
+getquery
+querystr
+nsensuresuccess
+rv
+rv
+querystr
+find
+header
+filter
+knotfound
+mmailboxaction
+nsimailboxurl
+actionfetchmessage
+nscomptr
+nsimsgdbhdr
+msghdr
+nsmsgkey
+msgkey
+mrunningurl
+rv
+mrunningurl
+getmessageheader
+getteraddrefs
+msghdr
+nsassertion
+msghdr
+no
+msg
+hdr
+msghdr
+nserrorunexpected
+prbool
+isread
+msghdr
+getisread
+isread
+nssucceeded
+rv
+isread
+msghdr
+markread
+prtrue
+rv
+print
+nsmailboxprotocol
+setupmessageextraction
+nscomptr
+nsimsgdbhdr
+msghdr
+nsresult
+rv
+nsok
+nsassertion
+mrunningurl
+not
+running
+url
+mrunningurl
+rv
+mrunningurl
+getmessageheader
+getteraddrefs
+msghdr
+nssucceeded
+rv
+msghdr
+pruint
+messagesize
+msghdr
+getmessagesize
+messagesize
+mrunningurl
+setmessagesize
+messagesize
+nsassertion
+prfalse
+couldn
+get
+message
+header
+rv
+nsresult
+nsmailboxprotocol
+loadurl
+nsiuri
+aurl
+nsisupports
+aconsumer
+nsresult
+rv
+nsok
+nscomptr
+nsistreamlistener
+consumer
+doqueryinterface
+aconsumer
+consumer
+mchannellistener
+consumer
+aurl
+mrunningurl
+doqueryinterface
+aurl
+mrunningurl
+rv
+mrunningurl
+getmailboxaction
+mmailboxaction
+prbool
+convertdata
+prfalse
+mmailboxaction
+nsimailboxurl
+actionfetchmessage
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+mrunningurl
+rv
+nsensuresuccess
+rv
+rv
+nscautostring
+querystr
+rv
+msgurl
+getquery
+querystr
+nsensuresuccess
+rv
+rv
+convertdata
+querystr
+find
+header
+filter
+knotfound
+mmailboxaction
+nsimailboxurl
+actionfetchpart
+convertdata
+prtrue
+consumer
+mchannellistener
+convertdata
+nscomptr
+nsistreamconverterservice
+streamconverter
+dogetservice
+streamconverters
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsistreamlistener
+conversionlistener
+nscomptr
+nsichannel
+channel
+queryinterface
+nsgetiid
+nsichannel
+getteraddrefs
+channel
+rv
+streamconverter
+asyncconvertdata
+nsliteralstring
+message
+rfc
+get
+nsliteralstring
+get
+consumer
+channel
+getteraddrefs
+mchannellistener
+nssucceeded
+rv
+mmailboxaction
+nsimailboxurl
+actionparsemailbox
+rv
+mrunningurl
+getmailboxparser
+getteraddrefs
+mmailboxparser
+mnextstate
+mailboxreadfolder
+nsimailboxurl
+actionsavemessagetodisk
+nscomptr
+nsimsgmessageurl
+msguri
+doqueryinterface
+mrunningurl
+msguri
+getmessagefile
+getteraddrefs
+mtempmessagefile
+mtempmessagefile
+openstreamforwriting
+nsimailboxurl
+actioncopymessage
+nsimailboxurl
+actionmovemessage
+nsimailboxurl
+actionfetchmessage
+mmailboxaction
+nsimailboxurl
+actionsavemessagetodisk
+nscomptr
+nsimsgmessageurl
+messageurl
+doqueryinterface
+aurl
+rv
+nssucceeded
+rv
+prbool
+adddummyenvelope
+prfalse
+messageurl
+getadddummyenvelope
+adddummyenvelope
+adddummyenvelope
+setflag
+mailboxmsgparsefirstline
+clearflag
+mailboxmsgparsefirstline
+clearflag
+mailboxmsgparsefirstline
+mnextstate
+mailboxreadmessage
+nsimailboxurl
+actionfetchpart
+mnextstate
+mailboxreadmessage
+rv
+nsmsgprotocol
+loadurl
+aurl
+mchannellistener
+rv
+print
+nsmailboxprotocol
+readfolderresponse
+nsiinputstream
+inputstream
+pruint
+sourceoffset
+pruint
+length
+nsresult
+rv
+nsok
+mcurrentprogress
+length
+mmailboxparser
+nscomptr
+nsiuri
+url
+doqueryinterface
+mrunningurl
+rv
+mmailboxparser
+ondataavailable
+nsnull
+url
+inputstream
+sourceoffset
+length
+nsfailed
+rv
+mnextstate
+mailboxerrordone
+setflag
+mailboxpauseforread
+print
+nsmailboxprotocol
+readmessageresponse
+nsiinputstream
+inputstream
+pruint
+sourceoffset
+pruint
+length
+line
+nsnull
+pruint
+status
+nsresult
+rv
+nsok
+mcurrentprogress
+length
+mchannellistener
+rv
+mchannellistener
+ondataavailable
+mchannelcontext
+inputstream
+sourceoffset
+length
+prbool
+pauseformoredata
+prfalse
+prbool
+canonicallineending
+prfalse
+nscomptr
+nsimsgmessageurl
+msgurl
+doqueryinterface
+mrunningurl
+msgurl
+msgurl
+getcanonicallineending
+canonicallineending
+line
+mlinestreambuffer
+readnextline
+inputstream
+status
+pauseformoredata
+line
+line
+line
+clearflag
+mailboxpauseforread
+line
+line
+mtempmessagefile
+testflag
+mailboxmsgparsefirstline
+print
+count
+line
+rv
+mtempmessagefile
+write
+line
+plstrlen
+line
+count
+nsfailed
+rv
+canonicallineending
+rv
+mtempmessagefile
+write
+crlf
+count
+rv
+mtempmessagefile
+write
+msglinebreak
+msglinebreaklen
+count
+nsfailed
+rv
+setflag
+mailboxmsgparsefirstline
+line
+pauseformoredata
+setflag
+mailboxpauseforread
+mprogresseventsink
+print
+contentlength
+getcontentlength
+contentlength
+mprogresseventsink
+onprogress
+mchannelcontext
+mcurrentprogress
+contentlength
+nsfailed
+rv
+nsresult
+nsmailboxprotocol
+processprotocolstate
+nsiuri
+url
+nsiinputstream
+inputstream
+pruint
+offset
+pruint
+length
+nsresult
+rv
+nsok
+print
+status
+clearflag
+mailboxpauseforread
+testflag
+mailboxpauseforread
+mnextstate
+mailboxreadmessage
+inputstream
+nsnull
+setflag
+mailboxpauseforread
+status
+readmessageresponse
+inputstream
+offset
+length
+mailboxreadfolder
+inputstream
+nsnull
+setflag
+mailboxpauseforread
+status
+readfolderresponse
+inputstream
+offset
+length
+mailboxdone
+mailboxerrordone
+nscomptr
+nsimsgmailnewsurl
+anotherurl
+doqueryinterface
+mrunningurl
+rv
+mnextstate
+mailboxdone
+nsok
+nserrorfailure
+anotherurl
+seturlstate
+prfalse
+rv
+mnextstate
+mailboxfree
+mailboxfree
+closesocket
+rv
+mnextstate
+mailboxerrordone
+status
+mnextstate
+mailboxfree
+mnextstate
+mailboxerrordone
+clearflag
+mailboxpauseforread
+rv
+nsresult
+nsmailboxprotocol
+closesocket
+nsmsgprotocol
+closesocket
+mrunningurl
+nsnull
+mmailboxparser
+nsnull
\ No newline at end of file
@@ -0,0 +1,744 @@
+msgcore
+nsiuri
+nsimailboxurl
+nsmailboxurl
+nsstring
+nsreadableutils
+nsescape
+nscrt
+nslocalutils
+nsimsgdatabase
+nsmsgdbcid
+nsmsgbasecid
+nsimsghdr
+nsxpidlstring
+nsirdfservice
+rdf
+nsimsgfolder
+prprf
+nsisupportsobsolete
+nsdefineiid
+kisupportsiid
+nsisupportsiid
+nsdefinecid
+kcmaildb
+nsmaildbcid
+nscomptr
+nsmsgbasecid
+nsimsgaccountmanager
+nsmsgutils
+nsmailboxgeturi
+nativepath
+nsresult
+rv
+uri
+nsnull
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsfailed
+rv
+nsnull
+nscomptr
+nsisupportsarray
+serverarray
+accountmanager
+getallservers
+getteraddrefs
+serverarray
+nsfilepath
+filepath
+nativepath
+pruint
+cnt
+rv
+serverarray
+count
+cnt
+nsfailed
+rv
+nsnull
+print
+count
+cnt
+print
+count
+nscomptr
+nsimsgincomingserver
+server
+doqueryelementat
+serverarray
+server
+nscomptr
+nsifilespec
+nativeserverpath
+rv
+server
+getlocalpath
+getteraddrefs
+nativeserverpath
+nsfailed
+rv
+nsfilespec
+spec
+nativeserverpath
+getfilespec
+spec
+nsfilepath
+serverpath
+spec
+print
+len
+plstrlen
+serverpath
+plstrncasecmp
+serverpath
+filepath
+len
+nsxpidlcstring
+serveruri
+rv
+server
+getserveruri
+gettercopies
+serveruri
+nsfailed
+rv
+relpath
+nativepath
+len
+relpath
+relpath
+nscautostring
+pathstr
+relpath
+print
+sbdindex
+sbdindex
+pathstr
+find
+sbd
+prtrue
+pathstr
+cut
+sbdindex
+uri
+prsmprintf
+serveruri
+pathstr
+get
+uri
+extractattributevalue
+searchstring
+attributename
+nsmailboxurl
+nsmailboxurl
+mmailboxaction
+nsimailboxurl
+actionparsemailbox
+mfilepath
+nsnull
+mmessageid
+nsnull
+mmessagekey
+nsmsgkeynone
+mmessagesize
+mmessagefilespec
+nsnull
+madddummyenvelope
+prfalse
+mcanonicallineending
+prfalse
+mcurmsgindex
+nsmailboxurl
+nsmailboxurl
+mfilepath
+mfilepath
+prfreeif
+mmessageid
+nsimpladdrefinherited
+nsmailboxurl
+nsmsgmailnewsurl
+nsimplreleaseinherited
+nsmailboxurl
+nsmsgmailnewsurl
+nsinterfacemapbegin
+nsmailboxurl
+nsinterfacemapentryambiguous
+nsisupports
+nsimailboxurl
+nsinterfacemapentry
+nsimailboxurl
+nsinterfacemapentry
+nsimsgmessageurl
+nsinterfacemapentry
+nsimsginurl
+nsinterfacemapendinheriting
+nsmsgmailnewsurl
+nsresult
+nsmailboxurl
+setmailboxparser
+nsistreamlistener
+amailboxparser
+amailboxparser
+mmailboxparser
+amailboxparser
+nsok
+nsresult
+nsmailboxurl
+getmailboxparser
+nsistreamlistener
+aconsumer
+nsensureargpointer
+aconsumer
+aconsumer
+mmailboxparser
+nsifaddref
+aconsumer
+nsok
+nsresult
+nsmailboxurl
+setmailboxcopyhandler
+nsistreamlistener
+amailboxcopyhandler
+amailboxcopyhandler
+mmailboxcopyhandler
+amailboxcopyhandler
+nsok
+nsresult
+nsmailboxurl
+getmailboxcopyhandler
+nsistreamlistener
+amailboxcopyhandler
+nsensureargpointer
+amailboxcopyhandler
+amailboxcopyhandler
+amailboxcopyhandler
+mmailboxcopyhandler
+nsifaddref
+amailboxcopyhandler
+nsok
+nsresult
+nsmailboxurl
+getfilespec
+nsfilespec
+afilepath
+afilepath
+afilepath
+mfilepath
+nsok
+nsresult
+nsmailboxurl
+getmessagekey
+nsmsgkey
+amessagekey
+amessagekey
+mmessagekey
+nsok
+nsimethodimp
+nsmailboxurl
+getmessagesize
+pruint
+amessagesize
+amessagesize
+amessagesize
+mmessagesize
+nsok
+nserrornullpointer
+nsresult
+nsmailboxurl
+setmessagesize
+pruint
+amessagesize
+mmessagesize
+amessagesize
+nsok
+nsimethodimp
+nsmailboxurl
+seturi
+auri
+muri
+auri
+nsok
+nsimethodimp
+nsmailboxurl
+geturi
+auri
+muri
+isempty
+auri
+tonewcstring
+muri
+nsfilespec
+filepath
+nsnull
+getfilespec
+filepath
+filepath
+baseuri
+nsmailboxgeturi
+mfile
+basemessageuri
+nscreatelocalbasemessageuri
+baseuri
+basemessageuri
+uri
+nsnull
+nscautostring
+uristr
+nsfilespec
+folder
+filepath
+nsbuildlocalmessageuri
+basemessageuri
+mmessagekey
+uristr
+plstrfree
+baseuri
+nscrt
+free
+basemessageuri
+uri
+tonewcstring
+uristr
+auri
+uri
+auri
+nsnull
+nsok
+nsresult
+nsmailboxurl
+getmsghdrforkey
+nsmsgkey
+msgkey
+nsimsgdbhdr
+amsghdr
+nsresult
+rv
+nsok
+amsghdr
+nscomptr
+nsimsgdatabase
+maildbfactory
+nscomptr
+nsimsgdatabase
+maildb
+rv
+nscomponentmanager
+createinstance
+kcmaildb
+nsnull
+nsgetiid
+nsimsgdatabase
+getteraddrefs
+maildbfactory
+nscomptr
+nsifilespec
+dbfilespec
+nsnewfilespecwithspec
+mfilepath
+getteraddrefs
+dbfilespec
+nssucceeded
+rv
+maildbfactory
+rv
+maildbfactory
+open
+dbfilespec
+prfalse
+prfalse
+nsimsgdatabase
+getteraddrefs
+maildb
+nssucceeded
+rv
+maildb
+rv
+maildb
+getmsghdrforkey
+msgkey
+amsghdr
+rv
+nserrornullpointer
+rv
+nsimethodimp
+nsmailboxurl
+getmessageheader
+nsimsgdbhdr
+amsghdr
+getmsghdrforkey
+mmessagekey
+amsghdr
+nsimplgetset
+nsmailboxurl
+adddummyenvelope
+prbool
+madddummyenvelope
+nsimplgetset
+nsmailboxurl
+canonicallineending
+prbool
+mcanonicallineending
+nsimethodimp
+nsmailboxurl
+getoriginalspec
+aspec
+aspec
+moriginalspec
+nserrornullpointer
+aspec
+nscrt
+strdup
+moriginalspec
+nsok
+nsimethodimp
+nsmailboxurl
+setoriginalspec
+aspec
+moriginalspec
+adopt
+aspec
+nscrt
+strdup
+aspec
+nsok
+nsimethodimp
+nsmailboxurl
+setmessagefile
+nsifilespec
+afilespec
+mmessagefilespec
+afilespec
+nsok
+nsimethodimp
+nsmailboxurl
+getmessagefile
+nsifilespec
+afilespec
+afilespec
+afilespec
+mmessagefilespec
+nsifaddref
+afilespec
+nsok
+nsimethodimp
+nsmailboxurl
+isurltype
+pruint
+type
+prbool
+istype
+nsensurearg
+istype
+type
+nsimsgmailnewsurl
+ecopy
+istype
+mmailboxaction
+nsimailboxurl
+actioncopymessage
+nsimsgmailnewsurl
+emove
+istype
+mmailboxaction
+nsimailboxurl
+actionmovemessage
+nsimsgmailnewsurl
+edisplay
+istype
+mmailboxaction
+nsimailboxurl
+actionfetchmessage
+istype
+prfalse
+nsok
+nsresult
+nsmailboxurl
+parsesearchpart
+nscautostring
+searchpart
+nsresult
+rv
+getquery
+searchpart
+nssucceeded
+rv
+searchpart
+isempty
+msgpart
+extractattributevalue
+searchpart
+get
+part
+msgpart
+mmailboxaction
+nsimailboxurl
+actionfetchpart
+mmailboxaction
+nsimailboxurl
+actionfetchmessage
+messagekey
+extractattributevalue
+searchpart
+get
+number
+mmessageid
+extractattributevalue
+searchpart
+get
+messageid
+messagekey
+mmessagekey
+atol
+messagekey
+prfreeif
+msgpart
+prfreeif
+messagekey
+mmailboxaction
+nsimailboxurl
+actionparsemailbox
+rv
+nsresult
+nsmailboxurl
+parseurl
+mfilepath
+mfilepath
+getfilepath
+mfile
+parsesearchpart
+strlen
+mfile
+mfilepath
+nsnull
+mfilepath
+nsfilespec
+nsfilepath
+nsunescape
+mfile
+nsok
+nsimethodimp
+nsmailboxurl
+setspec
+nsacstring
+aspec
+nsresult
+rv
+nsmsgmailnewsurl
+setspec
+aspec
+nssucceeded
+rv
+rv
+parseurl
+rv
+nsimethodimp
+nsmailboxurl
+setquery
+nsacstring
+aquery
+nsresult
+rv
+nsmsgmailnewsurl
+setquery
+aquery
+nssucceeded
+rv
+rv
+parseurl
+rv
+extractattributevalue
+searchstring
+attributename
+attributevalue
+nsnull
+searchstring
+attributename
+pruint
+attributenamesize
+plstrlen
+attributename
+startofattribute
+plstrcasestr
+searchstring
+attributename
+startofattribute
+startofattribute
+attributenamesize
+startofattribute
+endofattribute
+startofattribute
+plstrchr
+startofattribute
+nsnull
+startofattribute
+endofattribute
+attributevalue
+plstrndup
+startofattribute
+endofattribute
+startofattribute
+attributevalue
+plstrdup
+startofattribute
+attributevalue
+attributevalue
+nsunescape
+attributevalue
+attributevalue
+nsresult
+nsmailboxurl
+getfolder
+nsimsgfolder
+msgfolder
+nsxpidlcstring
+uri
+geturi
+gettercopies
+uri
+nsensuretrue
+uri
+nserrorfailure
+nscomptr
+nsimsgdbhdr
+msg
+getmsgdbhdrfromuri
+uri
+getteraddrefs
+msg
+nsensuretrue
+msg
+nserrorfailure
+nsresult
+rv
+msg
+getfolder
+msgfolder
+nsensuresuccess
+rv
+rv
+nsensuretrue
+msgfolder
+nserrorfailure
+nsok
+nsimethodimp
+nsmailboxurl
+getfoldercharset
+acharacterset
+nscomptr
+nsimsgfolder
+folder
+nsresult
+rv
+getfolder
+getteraddrefs
+folder
+nsensuresuccess
+rv
+rv
+nsensuretrue
+folder
+nserrorfailure
+folder
+getcharset
+acharacterset
+nsok
+nsimethodimp
+nsmailboxurl
+getfoldercharsetoverride
+prbool
+acharactersetoverride
+nscomptr
+nsimsgfolder
+folder
+nsresult
+rv
+getfolder
+getteraddrefs
+folder
+nsensuresuccess
+rv
+rv
+nsensuretrue
+folder
+nserrorfailure
+folder
+getcharsetoverride
+acharactersetoverride
+nsok
+nsimethodimp
+nsmailboxurl
+getcharsetoverride
+acharacterset
+mcharsetoverride
+isempty
+acharacterset
+tonewcstring
+mcharsetoverride
+acharacterset
+nsnull
+nsok
+nsimethodimp
+nsmailboxurl
+setcharsetoverride
+acharacterset
+mcharsetoverride
+acharacterset
+nsok
+nsimethodimp
+nsmailboxurl
+setmovecopymsgkeys
+nsmsgkey
+keystoflag
+print
+numkeys
+mkeys
+removeall
+mkeys
+add
+keystoflag
+numkeys
+mkeys
+getsize
+mmessagekey
+nsmsgkeynone
+mmessagekey
+mkeys
+getat
+nsok
+nsimethodimp
+nsmailboxurl
+getmovecopymsghdrforindex
+pruint
+msgindex
+nsimsgdbhdr
+msghdr
+nsensurearg
+msghdr
+msgindex
+mkeys
+getsize
+nsmsgkey
+nextkey
+mkeys
+getat
+msgindex
+getmsghdrforkey
+nextkey
+msghdr
+nsmsgmessagenotfound
+nsimethodimp
+nsmailboxurl
+getnummovecopymsgs
+pruint
+nummsgs
+nsensurearg
+nummsgs
+nummsgs
+mkeys
+getsize
+nsok
\ No newline at end of file
@@ -0,0 +1,421 @@
+prmem
+plstr
+prprf
+nscomptr
+nsipref
+nsxpidlstring
+nsistringbundle
+nsipopincomingserver
+nspopincomingserver
+nsipopservice
+nsmsgbasecid
+nsmsglocalcid
+nsmsgfolderflags
+nsifilespec
+nspopprotocol
+nsimsglocalmailfolder
+nsdefinecid
+kcpopservicecid
+nspopservicecid
+nsimplisupportsinherited
+nspopincomingserver
+nsmsgincomingserver
+nsipopincomingserver
+nsilocalmailincomingserver
+nspopincomingserver
+nspopincomingserver
+mcapabilityflags
+popauthmechundefined
+pophasauthuser
+popxsenderundefined
+popgurlundefined
+popuidlundefined
+poptopundefined
+popxtndxlstundefined
+mcanhavefilters
+prtrue
+nspopincomingserver
+nspopincomingserver
+nsimplserverprefbool
+nspopincomingserver
+leavemessagesonserver
+leaveonserver
+nsimplserverprefbool
+nspopincomingserver
+deletemailleftonserver
+deletemailleftonserver
+nsimplserverprefbool
+nspopincomingserver
+authlogin
+authlogin
+nsimplserverprefbool
+nspopincomingserver
+dotfix
+dotfix
+nsresult
+nspopincomingserver
+getpopcapabilityflags
+pruint
+flags
+flags
+mcapabilityflags
+nsok
+nsresult
+nspopincomingserver
+setpopcapabilityflags
+pruint
+flags
+mcapabilityflags
+flags
+nsok
+nsresult
+nspopincomingserver
+getlocalstoretype
+type
+nsensureargpointer
+type
+type
+nscrt
+strdup
+mailbox
+nsok
+nsimethodimp
+nspopincomingserver
+performbiff
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+nscomptr
+nsipopservice
+popservice
+dogetservice
+kcpopservicecid
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsimsgfolder
+inbox
+nscomptr
+nsimsgfolder
+rootmsgfolder
+nscomptr
+nsiurllistener
+urllistener
+rv
+getrootmsgfolder
+getteraddrefs
+rootmsgfolder
+nssucceeded
+rv
+rootmsgfolder
+pruint
+numfolders
+rv
+rootmsgfolder
+getfolderswithflag
+msgfolderflaginbox
+numfolders
+getteraddrefs
+inbox
+nsfailed
+rv
+numfolders
+rv
+setperformingbiff
+prtrue
+urllistener
+doqueryinterface
+inbox
+prbool
+downloadonbiff
+prfalse
+rv
+getdownloadonbiff
+downloadonbiff
+downloadonbiff
+nscomptr
+nsimsglocalmailfolder
+localinbox
+doqueryinterface
+inbox
+rv
+localinbox
+nssucceeded
+rv
+prbool
+valid
+prfalse
+nscomptr
+nsimsgdatabase
+db
+rv
+inbox
+getmsgdatabase
+amsgwindow
+getteraddrefs
+db
+nssucceeded
+rv
+db
+rv
+db
+getsummaryvalid
+valid
+nssucceeded
+rv
+valid
+rv
+popservice
+getnewmail
+amsgwindow
+urllistener
+inbox
+nsnull
+prbool
+islocked
+inbox
+getlocked
+islocked
+islocked
+rv
+localinbox
+parsefolder
+amsgwindow
+urllistener
+nssucceeded
+rv
+rv
+localinbox
+setcheckfornewmessagesafterparsing
+prtrue
+rv
+popservice
+checkfornewmail
+nsnull
+urllistener
+inbox
+nsnull
+nsok
+nsimethodimp
+nspopincomingserver
+setflagsondefaultmailboxes
+nsresult
+rv
+nscomptr
+nsifolder
+rootfolder
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsglocalmailfolder
+localfolder
+doqueryinterface
+rootfolder
+rv
+nsensuresuccess
+rv
+rv
+localfolder
+setflagsondefaultmailboxes
+msgfolderflaginbox
+msgfolderflagsentmail
+msgfolderflagdrafts
+msgfolderflagtemplates
+msgfolderflagtrash
+msgfolderflagjunk
+nsok
+nsimethodimp
+nspopincomingserver
+createdefaultmailboxes
+nsifilespec
+path
+nsresult
+rv
+prbool
+exists
+path
+nserrornullpointer
+rv
+path
+appendrelativeunixpath
+inbox
+nsfailed
+rv
+rv
+rv
+path
+exists
+exists
+exists
+rv
+path
+touch
+nsfailed
+rv
+rv
+rv
+path
+setleafname
+trash
+nsfailed
+rv
+rv
+rv
+path
+exists
+exists
+nsfailed
+rv
+rv
+exists
+rv
+path
+touch
+nsfailed
+rv
+rv
+rv
+path
+setleafname
+sent
+nsfailed
+rv
+rv
+rv
+path
+exists
+exists
+nsfailed
+rv
+rv
+exists
+rv
+path
+touch
+nsfailed
+rv
+rv
+rv
+path
+setleafname
+drafts
+nsfailed
+rv
+rv
+rv
+path
+exists
+exists
+nsfailed
+rv
+rv
+exists
+rv
+path
+touch
+nsfailed
+rv
+rv
+rv
+path
+setleafname
+templates
+nsfailed
+rv
+rv
+rv
+path
+exists
+exists
+nsfailed
+rv
+rv
+exists
+rv
+path
+touch
+nsfailed
+rv
+rv
+nsok
+nsimethodimp
+nspopincomingserver
+getnewmail
+nsimsgwindow
+amsgwindow
+nsiurllistener
+aurllistener
+nsimsgfolder
+inbox
+nsiuri
+aresult
+nsresult
+rv
+nscomptr
+nsipopservice
+popservice
+dogetservice
+kcpopservicecid
+rv
+nsensuresuccess
+rv
+rv
+popservice
+getnewmail
+amsgwindow
+aurllistener
+inbox
+aresult
+nsimethodimp
+nspopincomingserver
+getdownloadmessagesatstartup
+prbool
+getmessagesatstartup
+getmessagesatstartup
+prtrue
+nsok
+nsimethodimp
+nspopincomingserver
+getcanbedefaultserver
+prbool
+canbedefaultserver
+canbedefaultserver
+prtrue
+nsok
+nsimethodimp
+nspopincomingserver
+getcansearchmessages
+prbool
+cansearchmessages
+nsensureargpointer
+cansearchmessages
+cansearchmessages
+prtrue
+nsok
+nsimethodimp
+nspopincomingserver
+getofflinesupportlevel
+print
+asupportlevel
+nsensureargpointer
+asupportlevel
+nsresult
+rv
+rv
+getintvalue
+offlinesupportlevel
+asupportlevel
+asupportlevel
+offlinesupportlevelundefined
+rv
+asupportlevel
+offlinesupportlevelnone
+nsok
\ No newline at end of file
@@ -0,0 +1,861 @@
+msgcore
+nspopservice
+nsimsgincomingserver
+nsipopincomingserver
+nsimsgmailsession
+nsipref
+nspopurl
+nspopsink
+nspopprotocol
+nsmsglocalcid
+nsmsgbasecid
+nsxpidlstring
+nscomptr
+nsimsgwindow
+nsirdfservice
+nsirdfdatasource
+nsrdfcid
+nsidirectoryservice
+nsappdirectoryservicedefs
+prprf
+nsescape
+define
+popport
+define
+securepopport
+define
+prefmailrootpop
+mail
+root
+pop
+nsdefinecid
+kprefcid
+nsprefcid
+nsdefinecid
+kpopurlcid
+nspopurlcid
+nsdefinecid
+krdfservicecid
+nsrdfservicecid
+nspopservice
+nspopservice
+nspopservice
+nspopservice
+nsimplisupports
+nspopservice
+nsipopservice
+nsiprotocolhandler
+nsimsgprotocolinfo
+nsimethodimp
+nspopservice
+checkfornewmail
+nsimsgwindow
+amsgwindow
+nsiurllistener
+aurllistener
+nsimsgfolder
+ainbox
+nsipopincomingserver
+apopserver
+nsiuri
+aurl
+getmail
+prfalse
+amsgwindow
+aurllistener
+ainbox
+apopserver
+aurl
+nsresult
+nspopservice
+getnewmail
+nsimsgwindow
+amsgwindow
+nsiurllistener
+aurllistener
+nsimsgfolder
+ainbox
+nsipopincomingserver
+apopserver
+nsiuri
+aurl
+getmail
+prtrue
+amsgwindow
+aurllistener
+ainbox
+apopserver
+aurl
+nsresult
+nspopservice
+getmail
+prbool
+downloadnewmail
+nsimsgwindow
+amsgwindow
+nsiurllistener
+aurllistener
+nsimsgfolder
+ainbox
+nsipopincomingserver
+apopserver
+nsiuri
+aurl
+nsensureargpointer
+ainbox
+nsxpidlcstring
+pophost
+nsxpidlcstring
+popuser
+print
+popport
+nscomptr
+nsimsgincomingserver
+server
+nscomptr
+nsiuri
+url
+server
+doqueryinterface
+apopserver
+server
+nsmsginvalidormissingserver
+nsresult
+rv
+server
+gethostname
+gettercopies
+pophost
+nsensuresuccess
+rv
+rv
+pophost
+nsmsginvalidormissingserver
+rv
+server
+getport
+popport
+nsensuresuccess
+rv
+rv
+rv
+server
+getusername
+gettercopies
+popuser
+nsensuresuccess
+rv
+rv
+popuser
+nsmsgserverusernamemissing
+nsxpidlcstring
+escapedusername
+gettercopies
+escapedusername
+nsescape
+popuser
+urlxalphas
+nssucceeded
+rv
+apopserver
+urlspec
+downloadnewmail
+prsmprintf
+pop
+escapedusername
+pophost
+popport
+prsmprintf
+pop
+check
+escapedusername
+pophost
+popport
+rv
+buildpopurl
+urlspec
+ainbox
+apopserver
+aurllistener
+getteraddrefs
+url
+amsgwindow
+prfree
+urlspec
+nssucceeded
+rv
+url
+rv
+runpopurl
+server
+url
+aurl
+url
+nsifaddref
+aurl
+url
+rv
+nsresult
+nspopservice
+buildpopurl
+urlspec
+nsimsgfolder
+inbox
+nsipopincomingserver
+server
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+nspopsink
+popsink
+nspopsink
+popsink
+popsink
+setpopserver
+server
+popsink
+setfolder
+inbox
+nscomptr
+nsipopurl
+popurl
+docreateinstance
+kpopurlcid
+rv
+nsensuresuccess
+rv
+rv
+popurl
+setpopsink
+popsink
+rv
+popurl
+queryinterface
+nsgetiid
+nsiuri
+aurl
+nsensuresuccess
+rv
+rv
+aurl
+setspec
+nsdependentcstring
+urlspec
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+popurl
+mailnewsurl
+aurllistener
+mailnewsurl
+registerlistener
+aurllistener
+amsgwindow
+mailnewsurl
+setmsgwindow
+amsgwindow
+rv
+nsresult
+nspopservice
+runpopurl
+nsimsgincomingserver
+aserver
+nsiuri
+aurltorun
+nsresult
+rv
+nsok
+aserver
+aurltorun
+nsxpidlcstring
+username
+rv
+aserver
+getrealusername
+gettercopies
+username
+prbool
+serverbusy
+prfalse
+rv
+aserver
+getserverbusy
+serverbusy
+serverbusy
+nspopprotocol
+protocol
+nspopprotocol
+aurltorun
+protocol
+nsaddref
+protocol
+rv
+protocol
+initialize
+aurltorun
+nsfailed
+rv
+protocol
+rv
+protocol
+setusername
+username
+rv
+protocol
+loadurl
+aurltorun
+nsrelease
+protocol
+rv
+nsimethodimp
+nspopservice
+getscheme
+nsacstring
+ascheme
+ascheme
+pop
+nsok
+nsimethodimp
+nspopservice
+getdefaultport
+print
+adefaultport
+nsensureargpointer
+adefaultport
+adefaultport
+popport
+nsok
+nsimethodimp
+nspopservice
+allowport
+print
+port
+scheme
+prbool
+retval
+retval
+prtrue
+nsok
+nsimethodimp
+nspopservice
+getdefaultdobiff
+prbool
+adobiff
+nsensureargpointer
+adobiff
+adobiff
+prtrue
+nsok
+nsimethodimp
+nspopservice
+getprotocolflags
+pruint
+result
+nsensureargpointer
+result
+result
+urinorelative
+allowsproxy
+nsok
+nsimethodimp
+nspopservice
+newuri
+nsacstring
+aspec
+aorigincharset
+nsiuri
+abaseuri
+nsiuri
+retval
+nsresult
+rv
+nserrorfailure
+retval
+rv
+nscautostring
+folderuri
+aspec
+nscomptr
+nsirdfresource
+resource
+print
+offset
+folderuri
+find
+offset
+folderuri
+truncate
+offset
+nscomptr
+nsirdfservice
+rdfservice
+dogetservice
+krdfservicecid
+rv
+nsfailed
+rv
+rv
+rv
+rdfservice
+getresource
+folderuri
+getteraddrefs
+resource
+nsfailed
+rv
+rv
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+resource
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+folder
+getserver
+getteraddrefs
+server
+nsfailed
+rv
+rv
+nscomptr
+nsipopincomingserver
+popserver
+doqueryinterface
+server
+rv
+nsfailed
+rv
+rv
+nsxpidlcstring
+hostname
+nsxpidlcstring
+username
+server
+gethostname
+gettercopies
+hostname
+server
+getusername
+gettercopies
+username
+print
+port
+server
+getport
+port
+port
+port
+popport
+nsxpidlcstring
+escapedusername
+gettercopies
+escapedusername
+nsescape
+username
+urlxalphas
+nscautostring
+popspec
+pop
+popspec
+escapedusername
+popspec
+popspec
+hostname
+popspec
+popspec
+appendint
+port
+popspec
+uidl
+plstrstr
+promiseflatcstring
+aspec
+get
+uidl
+uidl
+nserrorfailure
+popspec
+uidl
+nscomptr
+nsiurllistener
+urllistener
+doqueryinterface
+folder
+rv
+nsfailed
+rv
+rv
+rv
+buildpopurl
+popspec
+get
+folder
+popserver
+urllistener
+retval
+nsnull
+nssucceeded
+rv
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+retval
+rv
+nssucceeded
+rv
+mailnewsurl
+setusername
+escapedusername
+nscomptr
+nsipopurl
+popurl
+doqueryinterface
+mailnewsurl
+rv
+nssucceeded
+rv
+nscautostring
+messageuri
+aspec
+messageuri
+replacesubstring
+mailbox
+mailbox
+message
+messageuri
+replacesubstring
+number
+offset
+messageuri
+find
+offset
+messageuri
+truncate
+offset
+popurl
+setmessageuri
+messageuri
+get
+nscomptr
+nsipopsink
+popsink
+rv
+popurl
+getpopsink
+getteraddrefs
+popsink
+nssucceeded
+rv
+popsink
+setbuildmessageuri
+prtrue
+rv
+nsimethodimp
+nspopservice
+newchannel
+nsiuri
+auri
+nsichannel
+retval
+nsresult
+rv
+nsok
+nspopprotocol
+protocol
+nspopprotocol
+auri
+protocol
+rv
+protocol
+initialize
+auri
+nsfailed
+rv
+protocol
+rv
+nscautostring
+username
+nscomptr
+nsimsgmailnewsurl
+url
+doqueryinterface
+auri
+rv
+nssucceeded
+rv
+url
+url
+getusername
+username
+nsunescapeurl
+username
+protocol
+setusername
+username
+get
+rv
+protocol
+queryinterface
+nsgetiid
+nsichannel
+retval
+rv
+nserrornullpointer
+rv
+nsimethodimp
+nspopservice
+setdefaultlocalpath
+nsifilespec
+apath
+nsresult
+rv
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefcid
+rv
+nsfailed
+rv
+rv
+rv
+prefs
+setfilepref
+prefmailrootpop
+apath
+prfalse
+rv
+nsimethodimp
+nspopservice
+getdefaultlocalpath
+nsifilespec
+aresult
+nsensureargpointer
+aresult
+aresult
+nsnull
+nsresult
+rv
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefcid
+rv
+nsfailed
+rv
+rv
+prbool
+havepref
+prfalse
+nscomptr
+nsilocalfile
+preflocal
+nscomptr
+nsifile
+localfile
+rv
+prefs
+getfilexpref
+prefmailrootpop
+getteraddrefs
+preflocal
+nssucceeded
+rv
+localfile
+preflocal
+havepref
+prtrue
+localfile
+rv
+nsgetspecialdirectory
+nsappmaildir
+getteraddrefs
+localfile
+nsfailed
+rv
+rv
+havepref
+prfalse
+prbool
+exists
+rv
+localfile
+exists
+exists
+nsfailed
+rv
+rv
+exists
+rv
+localfile
+create
+nsifile
+directorytype
+nsfailed
+rv
+rv
+nscomptr
+nsifilespec
+outspec
+rv
+nsnewfilespecfromifile
+localfile
+getteraddrefs
+outspec
+nsfailed
+rv
+rv
+havepref
+exists
+rv
+setdefaultlocalpath
+outspec
+aresult
+outspec
+nsifaddref
+aresult
+rv
+nsimethodimp
+nspopservice
+getserveriid
+nsiid
+aserveriid
+aserveriid
+nsiid
+nsgetiid
+nsipopincomingserver
+nsok
+nsimethodimp
+nspopservice
+getrequiresusername
+prbool
+arequiresusername
+nsensureargpointer
+arequiresusername
+arequiresusername
+prtrue
+nsok
+nsimethodimp
+nspopservice
+getpreflightprettynamewithemailaddress
+prbool
+apreflightprettynamewithemailaddress
+nsensureargpointer
+apreflightprettynamewithemailaddress
+apreflightprettynamewithemailaddress
+prtrue
+nsok
+nsimethodimp
+nspopservice
+getcanloginatstartup
+prbool
+acanloginatstartup
+nsensureargpointer
+acanloginatstartup
+acanloginatstartup
+prtrue
+nsok
+nsimethodimp
+nspopservice
+getcandelete
+prbool
+acandelete
+nsensureargpointer
+acandelete
+acandelete
+prtrue
+nsok
+nsimethodimp
+nspopservice
+getcanduplicate
+prbool
+acanduplicate
+nsensureargpointer
+acanduplicate
+acanduplicate
+prtrue
+nsok
+nsimethodimp
+nspopservice
+getcangetmessages
+prbool
+acangetmessages
+nsensureargpointer
+acangetmessages
+acangetmessages
+prtrue
+nsok
+nsimethodimp
+nspopservice
+getcangetincomingmessages
+prbool
+acangetincomingmessages
+nsensureargpointer
+acangetincomingmessages
+acangetincomingmessages
+prtrue
+nsok
+nsimethodimp
+nspopservice
+getshowcomposemsglink
+prbool
+showcomposemsglink
+nsensureargpointer
+showcomposemsglink
+showcomposemsglink
+prtrue
+nsok
+nsimethodimp
+nspopservice
+getneedtobuildspecialfolderuris
+prbool
+needtobuildspecialfolderuris
+nsensureargpointer
+needtobuildspecialfolderuris
+needtobuildspecialfolderuris
+prfalse
+nsok
+nsimethodimp
+nspopservice
+getdefaultserverport
+prbool
+issecure
+print
+aport
+nsensureargpointer
+aport
+nsresult
+rv
+nsok
+issecure
+aport
+securepopport
+rv
+getdefaultport
+aport
+rv
+nsimethodimp
+nspopservice
+getspecialfoldersdeletionallowed
+prbool
+specialfoldersdeletionallowed
+nsensureargpointer
+specialfoldersdeletionallowed
+specialfoldersdeletionallowed
+prtrue
+nsok
\ No newline at end of file
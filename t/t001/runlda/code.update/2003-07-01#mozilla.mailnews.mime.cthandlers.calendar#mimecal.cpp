@@ -0,0 +1,245 @@
+mimecal
+prmem
+plstr
+mimexpcom
+mimecth
+mimeobj
+nscrt
+mimeinlinetextcalendarparseline
+print
+mimeobject
+mimeinlinetextcalendarparseeof
+mimeobject
+prbool
+mimeinlinetextcalendarparsebegin
+mimeobject
+obj
+caloutofmemory
+mimedefclass
+mimeinlinetextcalendar
+mimeinlinetextcalendarclass
+mimeinlinetextcalendarclass
+mimeobjectclass
+mimecalendarcreatecontenttypehandlerclass
+contenttype
+contenttypehandlerinitstruct
+initstruct
+mimeobjectclass
+clazz
+mimeobjectclass
+mimeinlinetextcalendarclass
+comgetmimeinlinetextclass
+clazz
+superclass
+mimeobjectclass
+comgetmimeinlinetextclass
+initstruct
+forceinlinedisplay
+prfalse
+clazz
+mimeinlinetextcalendarclassinitialize
+mimeinlinetextcalendarclass
+clazz
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+nsassertion
+oclass
+classinitialized
+rhp
+netscape
+mar
+oclass
+parsebegin
+mimeinlinetextcalendarparsebegin
+oclass
+parseline
+mimeinlinetextcalendarparseline
+oclass
+parseeof
+mimeinlinetextcalendarparseeof
+mimetranslatecalendar
+caldata
+html
+html
+nscrt
+strdup
+text
+bgcolor
+ffffff
+link
+ff
+vlink
+alink
+ff
+center
+table
+border
+bgcolor
+ccffff
+tr
+td
+this
+libmime
+content
+type
+handler
+plugin
+the
+content
+type
+text
+calendar
+is
+functional
+td
+tr
+table
+center
+mimeinlinetextcalendarparsebegin
+mimeobject
+obj
+mimeinlinetextcalendarclass
+clazz
+status
+mimeobjectclass
+comgetmimeleafclass
+parsebegin
+obj
+status
+status
+obj
+outputp
+obj
+options
+obj
+options
+writehtmlp
+clazz
+mimeinlinetextcalendarclass
+obj
+clazz
+clazz
+bufferlen
+clazz
+buffermax
+clazz
+buffer
+prmalloc
+clazz
+buffermax
+clazz
+buffer
+caloutofmemory
+mimeinlinetextcalendarparseline
+line
+print
+length
+mimeobject
+obj
+mimeinlinetextcalendarclass
+clazz
+mimeinlinetextcalendarclass
+obj
+clazz
+obj
+outputp
+obj
+options
+obj
+options
+outputfn
+obj
+options
+writehtmlp
+commimeobjectwrite
+obj
+line
+length
+prtrue
+clazz
+bufferlen
+length
+clazz
+buffermax
+clazz
+buffermax
+clazz
+bufferlen
+length
+clazz
+buffermax
+clazz
+buffer
+prrealloc
+clazz
+buffer
+clazz
+buffermax
+clazz
+buffer
+caloutofmemory
+memcpy
+clazz
+buffer
+clazz
+bufferlen
+line
+length
+clazz
+bufferlen
+length
+mimeinlinetextcalendarparseeof
+mimeobject
+obj
+prbool
+abortp
+status
+mimeinlinetextcalendarclass
+clazz
+mimeinlinetextcalendarclass
+obj
+clazz
+html
+obj
+closedp
+status
+mimeobjectclass
+comgetmimeinlinetextclass
+parseeof
+obj
+abortp
+status
+status
+clazz
+buffer
+clazz
+bufferlen
+clazz
+buffer
+clazz
+bufferlen
+status
+mimetranslatecalendar
+clazz
+buffer
+html
+prfree
+clazz
+buffer
+clazz
+buffer
+status
+status
+status
+commimeobjectwrite
+obj
+html
+plstrlen
+html
+prtrue
+prfree
+html
+status
+status nsresult
\ No newline at end of file
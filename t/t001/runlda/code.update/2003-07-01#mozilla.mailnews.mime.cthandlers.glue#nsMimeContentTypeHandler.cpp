@@ -0,0 +1,68 @@
+stdio
+nscore
+plstr
+prtypes
+nsmimecontenttypehandler
+nscrt
+nsimplisupports
+nsmimecontenttypehandler
+nsimimecontenttypehandler
+nsmimecontenttypehandler
+nsmimecontenttypehandler
+amimetype
+mcthcreatecthclass
+callback
+nsassertion
+amimetype
+nsmimecontenttypehandler
+should
+be
+initialized
+with
+non
+mime
+type
+nsassertion
+callback
+nsmimecontenttypehandler
+should
+be
+initialized
+with
+non
+callback
+mimetype
+plstrdup
+amimetype
+realcreatecontenttypehandlerclass
+callback
+nsmimecontenttypehandler
+nsmimecontenttypehandler
+mimetype
+free
+mimetype
+mimetype
+realcreatecontenttypehandlerclass
+nsresult
+nsmimecontenttypehandler
+getcontenttype
+contenttype
+contenttype
+plstrdup
+mimetype
+nsok
+nsresult
+nsmimecontenttypehandler
+createcontenttypehandlerclass
+contenttype
+contenttypehandlerinitstruct
+initstruct
+mimeobjectclass
+objclass
+objclass
+realcreatecontenttypehandlerclass
+contenttype
+initstruct
+objclass
+nserroroutofmemory
+nsok
\ No newline at end of file
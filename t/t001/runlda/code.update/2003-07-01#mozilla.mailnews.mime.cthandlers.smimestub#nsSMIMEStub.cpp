@@ -0,0 +1,267 @@
+nssmimestub
+prlog
+prmem
+plstr
+mimexpcom
+mimecth
+mimeobj
+nscrt
+nsreadableutils
+nsistringbundle
+define
+smimepropertiesurl
+messenger
+locale
+smime
+properties
+define
+smimestrnotsupportedid
+ifndef
+xpmac
+nscomptr
+nsistringbundle
+stringbundle
+nsnull
+endif
+smimegetstringbyid
+print
+amsgid
+tempstring
+nsnull
+nsresult
+res
+nsok
+ifdef
+xpmac
+nscomptr
+nsistringbundle
+stringbundle
+nsnull
+endif
+stringbundle
+propertyurl
+smimepropertiesurl
+nscomptr
+nsistringbundleservice
+sbundleservice
+dogetservice
+nsstringbundlecontractid
+res
+nssucceeded
+res
+nsnull
+sbundleservice
+res
+sbundleservice
+createbundle
+propertyurl
+getteraddrefs
+stringbundle
+stringbundle
+prunichar
+ptrv
+nsnull
+res
+stringbundle
+getstringfromid
+amsgid
+ptrv
+nsfailed
+res
+nscrt
+strdup
+nsautostring
+append
+ptrv
+prfreeif
+ptrv
+tempstring
+tonewutfstring
+tempstring
+nscrt
+strdup
+tempstring
+mimeinlinetextsmimestubparseline
+print
+mimeobject
+mimeinlinetextsmimestubparseeof
+mimeobject
+prbool
+mimeinlinetextsmimestubparsebegin
+mimeobject
+obj
+mimedefclass
+mimeinlinetextsmimestub
+mimeinlinetextsmimestubclass
+mimeinlinetextsmimestubclass
+mimeobjectclass
+mimesmimecreatecontenttypehandlerclass
+contenttype
+contenttypehandlerinitstruct
+initstruct
+mimeobjectclass
+clazz
+mimeobjectclass
+mimeinlinetextsmimestubclass
+comgetmimeinlinetextclass
+clazz
+superclass
+mimeobjectclass
+comgetmimeinlinetextclass
+initstruct
+forceinlinedisplay
+prtrue
+clazz
+mimeinlinetextsmimestubclassinitialize
+mimeinlinetextsmimestubclass
+clazz
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+nsassertion
+oclass
+classinitialized
+rhp
+netscape
+nov
+oclass
+parsebegin
+mimeinlinetextsmimestubparsebegin
+oclass
+parseline
+mimeinlinetextsmimestubparseline
+oclass
+parseeof
+mimeinlinetextsmimestubparseeof
+generatemessage
+html
+nscstring
+temp
+temp
+append
+br
+text
+bgcolor
+ffffff
+link
+ff
+vlink
+alink
+ff
+temp
+append
+center
+table
+border
+tr
+td
+center
+tstring
+smimegetstringbyid
+smimestrnotsupportedid
+temp
+append
+tstring
+prfreeif
+tstring
+temp
+append
+center
+td
+tr
+table
+center
+br
+html
+tonewcstring
+temp
+mimeinlinetextsmimestubparsebegin
+mimeobject
+obj
+mimeinlinetextsmimestubclass
+clazz
+status
+mimeobjectclass
+comgetmimeleafclass
+parsebegin
+obj
+status
+status
+obj
+outputp
+obj
+options
+obj
+options
+writehtmlp
+clazz
+mimeinlinetextsmimestubclass
+obj
+clazz
+mimeinlinetextsmimestubparseline
+line
+print
+length
+mimeobject
+obj
+obj
+outputp
+obj
+options
+obj
+options
+outputfn
+obj
+options
+writehtmlp
+commimeobjectwrite
+obj
+line
+length
+prtrue
+mimeinlinetextsmimestubparseeof
+mimeobject
+obj
+prbool
+abortp
+status
+html
+obj
+closedp
+status
+mimeobjectclass
+comgetmimeinlinetextclass
+parseeof
+obj
+abortp
+status
+status
+obj
+options
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagequoting
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagebodyquoting
+status
+generatemessage
+html
+status
+status
+status
+commimeobjectwrite
+obj
+html
+plstrlen
+html
+prtrue
+prfreeif
+html
+status
+status
\ No newline at end of file
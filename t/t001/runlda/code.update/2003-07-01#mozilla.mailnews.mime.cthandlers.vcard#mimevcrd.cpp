@@ -0,0 +1,3110 @@
+nscomptr
+nsiioservice
+nsnetcid
+nsiservicemanager
+nsicharsetconvertermanager
+msgcore
+prlog
+prtypes
+prmem
+plstr
+nsvcardobj
+nsvcard
+mimecth
+mimexpcom
+mimevcrd
+nsescape
+nsiuri
+nsmsgin
+nsmsgutils
+nsreadableutils
+nsistringbundle
+nsipref
+nsvcardstringresources
+nscrt
+prprf
+ifndef
+xpmac
+nscomptr
+nsistringbundle
+stringbundle
+nsnull
+endif
+mimeinlinetextvcardparseline
+print
+mimeobject
+mimeinlinetextvcardparseeof
+mimeobject
+prbool
+mimeinlinetextvcardparsebegin
+mimeobject
+obj
+sunique
+beginvcard
+mimeobject
+obj
+endvcard
+mimeobject
+obj
+writeoutvcard
+mimeobject
+obj
+vobject
+writeouteachvcardproperty
+mimeobject
+obj
+vobject
+numemail
+writeoutvcardproperties
+mimeobject
+obj
+vobject
+numemail
+writelinetostream
+mimeobject
+obj
+line
+prbool
+adocharconversion
+getemailproperties
+vobject
+attribname
+gettelephoneproperties
+vobject
+attribname
+getaddressproperties
+vobject
+attribname
+writevalue
+mimeobject
+obj
+writeattribute
+mimeobject
+obj
+writeoutvcardphoneproperties
+mimeobject
+obj
+vobject
+writeouteachvcardphoneproperty
+mimeobject
+obj
+vobject
+attributename
+resourceid
+attributename
+define
+knumattributes
+nsdefinecid
+kioservicecid
+nsioservicecid
+nsdefinecid
+kprefcid
+nsprefcid
+define
+vcardurl
+messenger
+locale
+vcard
+properties
+mimedefclass
+mimeinlinetextvcard
+mimeinlinetextvcardclass
+mimeinlinetextvcardclass
+mimeobjectclass
+mimevcardcreatecontenttypehandlerclass
+contenttype
+contenttypehandlerinitstruct
+initstruct
+mimeobjectclass
+clazz
+mimeobjectclass
+mimeinlinetextvcardclass
+comgetmimeinlinetextclass
+clazz
+superclass
+mimeobjectclass
+comgetmimeinlinetextclass
+initstruct
+forceinlinedisplay
+prtrue
+clazz
+mimeinlinetextvcardclassinitialize
+mimeinlinetextvcardclass
+clazz
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+nsassertion
+oclass
+classinitialized
+rhp
+netscape
+mar
+oclass
+parsebegin
+mimeinlinetextvcardparsebegin
+oclass
+parseline
+mimeinlinetextvcardparseline
+oclass
+parseeof
+mimeinlinetextvcardparseeof
+mimeinlinetextvcardparsebegin
+mimeobject
+obj
+status
+mimeobjectclass
+comgetmimeleafclass
+parsebegin
+obj
+mimeinlinetextvcardclass
+clazz
+status
+status
+obj
+outputp
+obj
+options
+obj
+options
+writehtmlp
+clazz
+mimeinlinetextvcardclass
+obj
+clazz
+nsmsgsacopy
+clazz
+vcardstring
+obj
+options
+state
+separatorsuppressedp
+prtrue
+strcpysafe
+dest
+src
+sizet
+destlength
+result
+strncpy
+dest
+src
+destlength
+dest
+destlength
+result
+mimeinlinetextvcardparseline
+line
+print
+length
+mimeobject
+obj
+linestring
+mimeinlinetextvcardclass
+clazz
+mimeinlinetextvcardclass
+obj
+clazz
+obj
+outputp
+obj
+options
+obj
+options
+outputfn
+obj
+options
+writehtmlp
+commimeobjectwrite
+obj
+line
+length
+prtrue
+linestring
+prmalloc
+length
+memset
+linestring
+length
+linestring
+strcpysafe
+linestring
+line
+length
+nsmsgsacat
+clazz
+vcardstring
+linestring
+prfree
+linestring
+print
+intlconvertcharset
+fromcharset
+tocharset
+inbuffer
+print
+inlength
+outbuffer
+print
+outlength
+nsresult
+res
+nsnull
+fromcharset
+nsnull
+tocharset
+fromcharset
+tocharset
+nsnull
+inbuffer
+nscrt
+strcasecmp
+fromcharset
+tocharset
+nscrt
+strcasecmp
+fromcharset
+us
+ascii
+nscrt
+strcasecmp
+tocharset
+utf
+nscrt
+strcasecmp
+fromcharset
+utf
+nscrt
+strcasecmp
+tocharset
+us
+ascii
+nsautostring
+outstring
+res
+converttounicode
+fromcharset
+inbuffer
+outstring
+nserrormoduleuconv
+nserrorgetmodule
+res
+nscrt
+strcasecmp
+iso
+jp
+fromcharset
+res
+converttounicode
+shiftjis
+inbuffer
+outstring
+nserrormoduleuconv
+nserrorgetmodule
+res
+res
+converttounicode
+euc
+jp
+inbuffer
+outstring
+nssucceeded
+res
+res
+convertfromunicode
+tocharset
+outstring
+outbuffer
+nssucceeded
+res
+outlength
+strlen
+outbuffer
+nssucceeded
+res
+mimeinlinetextvcardparseeof
+mimeobject
+obj
+prbool
+abortp
+status
+mimeinlinetextvcardclass
+clazz
+mimeinlinetextvcardclass
+obj
+clazz
+vobject
+obj
+closedp
+status
+mimeobjectclass
+comgetmimeinlinetextclass
+parseeof
+obj
+abortp
+status
+status
+obj
+options
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagequoting
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagebodyquoting
+clazz
+vcardstring
+parsemime
+clazz
+vcardstring
+strlen
+clazz
+vcardstring
+clazz
+vcardstring
+prfree
+clazz
+vcardstring
+clazz
+vcardstring
+obj
+outputp
+obj
+options
+obj
+options
+writehtmlp
+obj
+options
+headers
+mimeheaderscitation
+status
+status
+writeoutvcard
+obj
+nextvobjectinlist
+cleanvobject
+status
+status
+writeeachlinetostream
+mimeobject
+obj
+line
+status
+htmlline
+htmllen
+strlen
+line
+htmlline
+prmalloc
+htmllen
+htmlline
+htmlline
+plstrcat
+htmlline
+line
+status
+commimeobjectwrite
+obj
+htmlline
+strlen
+htmlline
+prtrue
+prfree
+htmlline
+status
+vcardoutofmemory
+status
+outputtable
+mimeobject
+obj
+prbool
+endtable
+prbool
+border
+cellspacing
+cellpadding
+bgcolor
+status
+htmlline
+endtable
+status
+writeeachlinetostream
+obj
+table
+htmllen
+strlen
+table
+border
+htmllen
+strlen
+border
+cellspacing
+htmllen
+strlen
+cellspacing
+strlen
+cellspacing
+cellpadding
+htmllen
+strlen
+cellpadding
+strlen
+cellpadding
+bgcolor
+htmllen
+strlen
+bgcolor
+strlen
+bgcolor
+border
+cellspacing
+cellpadding
+bgcolor
+htmllen
+htmlline
+prmalloc
+htmllen
+htmlline
+htmlline
+plstrcat
+htmlline
+table
+border
+plstrcat
+htmlline
+border
+cellspacing
+plstrcat
+htmlline
+cellspacing
+plstrcat
+htmlline
+cellspacing
+cellpadding
+plstrcat
+htmlline
+cellpadding
+plstrcat
+htmlline
+cellpadding
+bgcolor
+plstrcat
+htmlline
+bgcolor
+plstrcat
+htmlline
+bgcolor
+border
+cellspacing
+cellpadding
+bgcolor
+plstrcat
+htmlline
+plstrcat
+htmlline
+status
+commimeobjectwrite
+obj
+htmlline
+strlen
+htmlline
+prtrue
+prfree
+htmlline
+status
+vcardoutofmemory
+status
+outputtablerowordata
+mimeobject
+obj
+prbool
+outputrow
+prbool
+end
+align
+valign
+colspan
+width
+status
+htmlline
+end
+outputrow
+status
+writeeachlinetostream
+obj
+tr
+status
+writeeachlinetostream
+obj
+td
+htmllen
+strlen
+tr
+align
+htmllen
+strlen
+align
+strlen
+align
+colspan
+htmllen
+strlen
+colspan
+strlen
+colspan
+width
+htmllen
+strlen
+width
+strlen
+width
+valign
+htmllen
+strlen
+valign
+strlen
+valign
+align
+valign
+colspan
+width
+htmllen
+htmlline
+prmalloc
+htmllen
+htmlline
+htmlline
+outputrow
+plstrcat
+htmlline
+tr
+plstrcat
+htmlline
+td
+align
+plstrcat
+htmlline
+align
+plstrcat
+htmlline
+align
+valign
+plstrcat
+htmlline
+valign
+plstrcat
+htmlline
+valign
+colspan
+plstrcat
+htmlline
+colspan
+plstrcat
+htmlline
+colspan
+width
+plstrcat
+htmlline
+width
+plstrcat
+htmlline
+width
+align
+valign
+colspan
+width
+plstrcat
+htmlline
+plstrcat
+htmlline
+status
+commimeobjectwrite
+obj
+htmlline
+strlen
+htmlline
+prtrue
+prfree
+htmlline
+status
+vcardoutofmemory
+status
+outputfont
+mimeobject
+obj
+prbool
+endfont
+size
+color
+status
+htmlline
+endfont
+status
+writeeachlinetostream
+obj
+font
+htmllen
+strlen
+font
+size
+htmllen
+strlen
+size
+strlen
+size
+color
+htmllen
+strlen
+color
+strlen
+color
+size
+color
+htmllen
+htmlline
+prmalloc
+htmllen
+htmlline
+htmlline
+plstrcat
+htmlline
+font
+size
+plstrcat
+htmlline
+size
+plstrcat
+htmlline
+size
+color
+plstrcat
+htmlline
+color
+plstrcat
+htmlline
+color
+size
+color
+plstrcat
+htmlline
+plstrcat
+htmlline
+status
+commimeobjectwrite
+obj
+htmlline
+strlen
+htmlline
+prtrue
+prfree
+htmlline
+status
+vcardoutofmemory
+status
+outputvcardattribute
+mimeobject
+obj
+vobject
+id
+status
+vobject
+prop
+prop
+isapropertyof
+id
+prop
+valuetype
+prop
+valuetype
+prop
+vcvtraw
+fakecstring
+vobjectustringzvalue
+prop
+prmalloc
+strlen
+vobjectanyvalue
+prop
+plstrcpy
+vobjectanyvalue
+prop
+status
+outputfont
+obj
+prfalse
+status
+prfreeif
+status
+status
+writelinetostream
+obj
+prtrue
+prfreeif
+status
+status
+status
+outputfont
+obj
+prtrue
+status
+status
+outputbasicvcard
+mimeobject
+obj
+vobject
+status
+htmlline
+htmlline
+htmlline
+vobject
+prop
+vobject
+prop
+urlstring
+namestring
+emailstring
+prop
+isapropertyof
+vcfullnameprop
+prop
+valuetype
+prop
+valuetype
+prop
+vcvtraw
+namestring
+fakecstring
+vobjectustringzvalue
+prop
+namestring
+prmalloc
+strlen
+vobjectanyvalue
+prop
+namestring
+plstrcpy
+namestring
+vobjectanyvalue
+prop
+namestring
+prop
+isapropertyof
+vcurlprop
+prop
+urlstring
+fakecstring
+vobjectustringzvalue
+prop
+urlstring
+htmlline
+prsmprintf
+href
+private
+urlstring
+namestring
+htmlline
+prsmprintf
+namestring
+prfreeif
+urlstring
+htmlline
+prsmprintf
+namestring
+prop
+isapropertyof
+vcemailaddressprop
+prop
+emailstring
+fakecstring
+vobjectustringzvalue
+prop
+emailstring
+prop
+isapropertyof
+prop
+vcinternetprop
+prop
+htmlline
+prsmprintf
+lt
+href
+mailto
+private
+gt
+emailstring
+emailstring
+htmlline
+prsmprintf
+emailstring
+prfreeif
+emailstring
+prfreeif
+namestring
+htmlline
+htmlline
+prfreeif
+htmlline
+prfreeif
+htmlline
+vcardoutofmemory
+htmlline
+nsmsgsacat
+htmlline
+htmlline
+htmlline
+nsmsgsacat
+htmlline
+htmlline
+prfreeif
+htmlline
+prfreeif
+htmlline
+status
+outputtable
+obj
+prfalse
+prfalse
+status
+prfreeif
+htmlline
+status
+htmlline
+status
+outputtablerowordata
+obj
+prtrue
+prfalse
+left
+top
+status
+prfree
+htmlline
+status
+status
+outputtablerowordata
+obj
+prfalse
+prfalse
+status
+prfree
+htmlline
+status
+status
+writelinetostream
+obj
+htmlline
+prtrue
+prfree
+htmlline
+status
+status
+status
+outputtablerowordata
+obj
+prfalse
+prtrue
+status
+status
+status
+outputtablerowordata
+obj
+prtrue
+prtrue
+status
+status
+status
+vcardoutofmemory
+status
+outputtablerowordata
+obj
+prtrue
+prfalse
+status
+status
+status
+outputtablerowordata
+obj
+prfalse
+prfalse
+status
+status
+status
+outputvcardattribute
+obj
+vctitleprop
+status
+status
+prop
+isapropertyof
+vcorgprop
+prop
+status
+outputvcardattribute
+obj
+prop
+vcorgnameprop
+status
+status
+status
+outputvcardattribute
+obj
+prop
+vcorgunitprop
+status
+status
+status
+outputvcardattribute
+obj
+prop
+vcorgunitprop
+status
+status
+status
+outputvcardattribute
+obj
+prop
+vcorgunitprop
+status
+status
+status
+outputtablerowordata
+obj
+prfalse
+prtrue
+status
+status
+status
+outputtablerowordata
+obj
+prtrue
+prtrue
+status
+status
+status
+outputtable
+obj
+prtrue
+prfalse
+status
+status
+outputadvancedvcard
+mimeobject
+obj
+vobject
+status
+htmlline
+htmlline
+vobject
+prop
+vobject
+prop
+urlstring
+namestring
+emailstring
+numemail
+status
+outputtable
+obj
+prfalse
+prfalse
+status
+status
+status
+outputtablerowordata
+obj
+prtrue
+prfalse
+left
+top
+status
+status
+status
+outputtablerowordata
+obj
+prfalse
+prfalse
+left
+top
+status
+status
+prop
+isapropertyof
+vcfullnameprop
+prop
+valuetype
+prop
+valuetype
+prop
+vcvtraw
+namestring
+fakecstring
+vobjectustringzvalue
+prop
+namestring
+prmalloc
+strlen
+vobjectanyvalue
+prop
+namestring
+plstrcpy
+namestring
+vobjectanyvalue
+prop
+namestring
+prop
+isapropertyof
+vcurlprop
+prop
+urlstring
+fakecstring
+vobjectustringzvalue
+prop
+urlstring
+htmlline
+prsmprintf
+href
+private
+urlstring
+namestring
+htmlline
+prsmprintf
+namestring
+prfreeif
+urlstring
+htmlline
+prsmprintf
+namestring
+prfreeif
+namestring
+htmlline
+vcardoutofmemory
+htmlline
+status
+writelinetostream
+obj
+htmlline
+prtrue
+prfreeif
+htmlline
+status
+status
+status
+outputtablerowordata
+obj
+prfalse
+prtrue
+status
+status
+status
+outputtablerowordata
+obj
+prtrue
+prtrue
+status
+status
+status
+outputtablerowordata
+obj
+prtrue
+prfalse
+left
+top
+status
+status
+status
+outputtablerowordata
+obj
+prfalse
+prfalse
+left
+top
+status
+status
+status
+outputvcardattribute
+obj
+vctitleprop
+status
+status
+prop
+isapropertyof
+vcorgprop
+prop
+status
+outputvcardattribute
+obj
+prop
+vcorgnameprop
+status
+status
+status
+outputvcardattribute
+obj
+prop
+vcorgunitprop
+status
+status
+status
+outputvcardattribute
+obj
+prop
+vcorgunitprop
+status
+status
+status
+outputvcardattribute
+obj
+prop
+vcorgunitprop
+status
+status
+status
+outputtablerowordata
+obj
+prfalse
+prtrue
+status
+status
+status
+outputtablerowordata
+obj
+prfalse
+prfalse
+left
+top
+status
+status
+status
+outputtablerowordata
+obj
+prfalse
+prtrue
+status
+status
+status
+outputtablerowordata
+obj
+prfalse
+prfalse
+left
+top
+status
+status
+prop
+isapropertyof
+vcemailaddressprop
+prop
+emailstring
+fakecstring
+vobjectustringzvalue
+prop
+emailstring
+numemail
+prop
+isapropertyof
+prop
+vcinternetprop
+prop
+htmlline
+prsmprintf
+lt
+href
+mailto
+private
+gt
+emailstring
+emailstring
+htmlline
+prsmprintf
+emailstring
+prfreeif
+emailstring
+htmlline
+vcardoutofmemory
+htmlline
+status
+outputfont
+obj
+prfalse
+status
+prfreeif
+htmlline
+status
+status
+writelinetostream
+obj
+htmlline
+prtrue
+prfreeif
+htmlline
+status
+status
+status
+outputfont
+obj
+prtrue
+status
+status
+prop
+isapropertyof
+vcusehtml
+prop
+valuetype
+prop
+namestring
+fakecstring
+vobjectustringzvalue
+prop
+namestring
+nscrt
+strcasecmp
+namestring
+true
+prfreeif
+namestring
+status
+outputfont
+obj
+prfalse
+status
+status
+tstring
+vcardgetstringbyid
+vcardldapusehtml
+status
+writelinetostream
+obj
+tstring
+prfalse
+prfreeif
+tstring
+status
+status
+status
+outputfont
+obj
+prtrue
+status
+status
+prfreeif
+namestring
+status
+outputtablerowordata
+obj
+prfalse
+prtrue
+status
+status
+status
+outputtablerowordata
+obj
+prtrue
+prtrue
+status
+status
+status
+outputtablerowordata
+obj
+prtrue
+prfalse
+left
+top
+status
+status
+status
+outputtablerowordata
+obj
+prfalse
+prfalse
+left
+top
+status
+status
+prop
+isapropertyof
+vcadrprop
+prop
+status
+outputvcardattribute
+obj
+prop
+vcpostalboxprop
+status
+status
+status
+outputvcardattribute
+obj
+prop
+vcextaddressprop
+status
+status
+status
+outputvcardattribute
+obj
+prop
+vcstreetaddressprop
+status
+status
+status
+outputvcardattribute
+obj
+prop
+vccityprop
+status
+status
+status
+outputvcardattribute
+obj
+prop
+vcregionprop
+status
+status
+status
+outputvcardattribute
+obj
+prop
+vcpostalcodeprop
+status
+status
+status
+outputvcardattribute
+obj
+prop
+vccountrynameprop
+status
+status
+status
+outputtablerowordata
+obj
+prfalse
+prtrue
+status
+status
+status
+outputtablerowordata
+obj
+prfalse
+prfalse
+status
+status
+status
+outputtablerowordata
+obj
+prfalse
+prtrue
+status
+status
+status
+outputtablerowordata
+obj
+prfalse
+prfalse
+left
+top
+status
+status
+status
+writeoutvcardphoneproperties
+obj
+status
+status
+status
+outputfont
+obj
+prfalse
+status
+status
+prop
+isapropertyof
+vccooltalk
+prop
+tstring
+vcardgetstringbyid
+vcardaddrconfinfo
+writelinetostream
+obj
+tstring
+prfalse
+prfreeif
+tstring
+status
+status
+prop
+isapropertyof
+prop
+vcuseserver
+prop
+valuetype
+prop
+namestring
+fakecstring
+vobjectustringzvalue
+prop
+tstring
+nscrt
+strcmp
+namestring
+tstring
+vcardgetstringbyid
+vcardaddrdefaultdls
+nscrt
+strcmp
+namestring
+tstring
+vcardgetstringbyid
+vcardaddrspecificdls
+nscrt
+strcmp
+namestring
+tstring
+vcardgetstringbyid
+vcardaddrhostnameip
+tstring
+status
+writelinetostream
+obj
+tstring
+prfalse
+prfreeif
+tstring
+prfreeif
+namestring
+status
+status
+status
+outputvcardattribute
+obj
+prop
+vccooltalkaddress
+status
+status
+status
+outputfont
+obj
+prtrue
+status
+status
+status
+outputtablerowordata
+obj
+prfalse
+prtrue
+status
+status
+status
+outputtablerowordata
+obj
+prtrue
+prtrue
+status
+status
+prop
+isapropertyof
+vccommentprop
+prop
+status
+outputtablerowordata
+obj
+prtrue
+prfalse
+left
+top
+status
+status
+status
+outputtablerowordata
+obj
+prfalse
+prfalse
+left
+top
+status
+status
+status
+outputvcardattribute
+obj
+vccommentprop
+status
+status
+status
+outputtablerowordata
+obj
+prfalse
+prtrue
+status
+status
+status
+outputtablerowordata
+obj
+prtrue
+prtrue
+status
+status
+status
+outputtable
+obj
+prtrue
+prfalse
+status
+status
+status
+outputtable
+obj
+prfalse
+prfalse
+status
+status
+status
+outputtablerowordata
+obj
+prtrue
+prfalse
+left
+top
+status
+status
+status
+outputtablerowordata
+obj
+prfalse
+prfalse
+left
+top
+status
+status
+status
+outputfont
+obj
+prfalse
+status
+status
+tstring
+vcardgetstringbyid
+vcardaddraddinfo
+status
+writelinetostream
+obj
+tstring
+prfalse
+prfreeif
+tstring
+status
+status
+status
+outputfont
+obj
+prtrue
+status
+status
+status
+outputtablerowordata
+obj
+prfalse
+prtrue
+status
+status
+status
+outputtablerowordata
+obj
+prtrue
+prtrue
+status
+status
+status
+writeoutvcardproperties
+obj
+numemail
+status
+status
+status
+outputtable
+obj
+prtrue
+prfalse
+status
+status
+outputbuttons
+mimeobject
+obj
+prbool
+basic
+vobject
+status
+htmlline
+vcard
+vesccard
+len
+rsrcstring
+obj
+options
+outputvcardbuttonsp
+status
+vcard
+writememoryvobjects
+len
+prfalse
+vcard
+vcardoutofmemory
+vesccard
+nsescape
+vcard
+urlxalphas
+prfreeif
+vcard
+vesccard
+vcardoutofmemory
+basic
+rsrcstring
+vcardgetstringbyid
+vcardaddrviewcompletevcard
+htmlline
+prsmprintf
+form
+name
+form
+input
+type
+reset
+value
+onclick
+showadvanced
+input
+form
+rsrcstring
+sunique
+rsrcstring
+vcardgetstringbyid
+vcardaddrviewcondensedvcard
+htmlline
+prsmprintf
+form
+name
+form
+input
+type
+reset
+value
+onclick
+showbasic
+input
+form
+rsrcstring
+sunique
+prfreeif
+rsrcstring
+htmlline
+nscrt
+free
+vesccard
+prfreeif
+htmlline
+vcardoutofmemory
+status
+outputtablerowordata
+obj
+prfalse
+prfalse
+left
+top
+status
+fail
+status
+writeeachlinetostream
+obj
+script
+document
+write
+status
+fail
+status
+writelinetostream
+obj
+htmlline
+prfalse
+status
+fail
+status
+writeeachlinetostream
+obj
+script
+status
+fail
+status
+outputtablerowordata
+obj
+prfalse
+prtrue
+status
+fail
+fail
+prfreeif
+vesccard
+prfreeif
+htmlline
+status
+beginlayer
+mimeobject
+obj
+prbool
+basic
+status
+captionline
+basic
+captionline
+prsmprintf
+div
+id
+basic
+style
+position
+absolute
+sunique
+captionline
+prsmprintf
+div
+id
+advanced
+style
+position
+absolute
+display
+none
+sunique
+captionline
+status
+writeeachlinetostream
+obj
+captionline
+prfree
+captionline
+status
+status
+status
+outputtable
+obj
+prfalse
+prfalse
+status
+status
+status
+outputtablerowordata
+obj
+prtrue
+prfalse
+status
+status
+status
+outputtablerowordata
+obj
+prfalse
+prfalse
+top
+status
+status
+status
+outputtable
+obj
+prfalse
+prtrue
+ffffff
+status
+status
+basic
+status
+outputtablerowordata
+obj
+prtrue
+prfalse
+left
+top
+status
+status
+status
+outputtablerowordata
+obj
+prfalse
+prfalse
+left
+top
+status
+status
+status
+outputtablerowordata
+obj
+prtrue
+prfalse
+status
+status
+status
+outputtablerowordata
+obj
+prfalse
+prfalse
+status
+status
+status
+outputtable
+obj
+prfalse
+prfalse
+status
+status
+status
+outputtablerowordata
+obj
+prtrue
+prfalse
+status
+status
+status
+outputtablerowordata
+obj
+prfalse
+prfalse
+status
+status
+status
+vcardoutofmemory
+status
+endlayer
+mimeobject
+obj
+prbool
+basic
+vobject
+status
+captionline
+status
+outputtablerowordata
+obj
+prfalse
+prtrue
+status
+status
+status
+outputtablerowordata
+obj
+prtrue
+prtrue
+status
+status
+status
+outputtable
+obj
+prtrue
+prfalse
+status
+status
+status
+outputtablerowordata
+obj
+prfalse
+prtrue
+status
+status
+status
+outputtablerowordata
+obj
+prtrue
+prtrue
+status
+status
+status
+outputtable
+obj
+prtrue
+prfalse
+status
+status
+status
+outputtablerowordata
+obj
+prfalse
+prtrue
+status
+status
+status
+outputbuttons
+obj
+basic
+status
+status
+status
+outputtablerowordata
+obj
+prtrue
+prtrue
+status
+status
+status
+outputtable
+obj
+prtrue
+prfalse
+status
+status
+basic
+status
+writeeachlinetostream
+obj
+div
+status
+status
+status
+writeeachlinetostream
+obj
+script
+status
+status
+captionline
+prsmprintf
+function
+showadvanced
+var
+longdiv
+document
+getelementbyid
+advanced
+var
+shortdiv
+document
+getelementbyid
+basic
+longdiv
+setattribute
+style
+display
+block
+shortdiv
+setattribute
+style
+display
+none
+function
+showbasic
+var
+longdiv
+document
+getelementbyid
+advanced
+var
+shortdiv
+document
+getelementbyid
+basic
+longdiv
+setattribute
+style
+display
+none
+shortdiv
+setattribute
+style
+display
+block
+sunique
+sunique
+sunique
+sunique
+sunique
+sunique
+captionline
+status
+writeeachlinetostream
+obj
+captionline
+prfreeif
+captionline
+status
+status
+status
+writeeachlinetostream
+obj
+script
+status
+writeeachlinetostream
+obj
+div
+status
+status
+endvcard
+mimeobject
+obj
+status
+htmlfooters
+prsnprintf
+htmlfooters
+htmlfooters
+body
+html
+msglinebreak
+msglinebreak
+status
+commimeobjectwrite
+obj
+htmlfooters
+strlen
+htmlfooters
+prfalse
+status
+status
+beginvcard
+mimeobject
+obj
+status
+htmlheaders
+sunique
+prsnprintf
+htmlheaders
+htmlheaders
+html
+body
+msglinebreak
+msglinebreak
+status
+commimeobjectwrite
+obj
+htmlheaders
+strlen
+htmlheaders
+prtrue
+status
+status
+writeoutvcard
+mimeobject
+obj
+vobject
+status
+status
+beginvcard
+obj
+status
+status
+status
+beginlayer
+obj
+prtrue
+status
+status
+status
+outputbasicvcard
+obj
+status
+status
+status
+endlayer
+obj
+prtrue
+status
+status
+status
+beginlayer
+obj
+prfalse
+status
+status
+status
+outputadvancedvcard
+obj
+status
+status
+status
+endlayer
+obj
+prfalse
+status
+status
+status
+endvcard
+obj
+status
+status
+getaddressproperties
+vobject
+attribname
+vobject
+domprop
+isapropertyof
+vcdomesticprop
+vobject
+intlprop
+isapropertyof
+vcinternationalprop
+vobject
+postal
+isapropertyof
+vcpostalprop
+vobject
+parcel
+isapropertyof
+vcparcelprop
+vobject
+home
+isapropertyof
+vchomeprop
+vobject
+work
+isapropertyof
+vcworkprop
+tstring
+domprop
+tstring
+vcardgetstringbyid
+vcardldapdomtype
+intlprop
+tstring
+vcardgetstringbyid
+vcardldapintltype
+postal
+tstring
+vcardgetstringbyid
+vcardldappostaltype
+parcel
+tstring
+vcardgetstringbyid
+vcardldapparceltype
+home
+tstring
+vcardgetstringbyid
+vcardldaphometype
+work
+tstring
+vcardgetstringbyid
+vcardldapworktype
+tstring
+nsmsgsacat
+attribname
+nsmsgsacat
+attribname
+tstring
+prfreeif
+tstring
+gettelephoneproperties
+vobject
+attribname
+vobject
+prefprop
+isapropertyof
+vcpreferredprop
+vobject
+home
+isapropertyof
+vchomeprop
+vobject
+work
+isapropertyof
+vcworkprop
+vobject
+voiceprop
+isapropertyof
+vcvoiceprop
+vobject
+fax
+isapropertyof
+vcfaxprop
+vobject
+msg
+isapropertyof
+vcmessageprop
+vobject
+cell
+isapropertyof
+vccellularprop
+vobject
+pager
+isapropertyof
+vcpagerprop
+vobject
+bbs
+isapropertyof
+vcbbsprop
+tstring
+prefprop
+tstring
+vcardgetstringbyid
+vcardldappreftype
+home
+tstring
+vcardgetstringbyid
+vcardldaphometype
+work
+tstring
+vcardgetstringbyid
+vcardldapworktype
+voiceprop
+tstring
+vcardgetstringbyid
+vcardldapvoicetype
+fax
+tstring
+vcardgetstringbyid
+vcardldapfaxtype
+msg
+tstring
+vcardgetstringbyid
+vcardldapmsgtype
+cell
+tstring
+vcardgetstringbyid
+vcardldapcelltype
+pager
+tstring
+vcardgetstringbyid
+vcardldappagertype
+bbs
+tstring
+vcardgetstringbyid
+vcardldapbbstype
+tstring
+nsmsgsacat
+attribname
+nsmsgsacat
+attribname
+tstring
+prfreeif
+tstring
+getemailproperties
+vobject
+attribname
+vobject
+prefprop
+isapropertyof
+vcpreferredprop
+vobject
+home
+isapropertyof
+vchomeprop
+vobject
+work
+isapropertyof
+vcworkprop
+vobject
+aol
+isapropertyof
+vcaolprop
+vobject
+applelink
+isapropertyof
+vcapplelinkprop
+vobject
+att
+isapropertyof
+vcattmailprop
+vobject
+cis
+isapropertyof
+vccisprop
+vobject
+eworld
+isapropertyof
+vceworldprop
+vobject
+internet
+isapropertyof
+vcinternetprop
+vobject
+ibmmail
+isapropertyof
+vcibmmailprop
+vobject
+mcimail
+isapropertyof
+vcmcimailprop
+vobject
+powershare
+isapropertyof
+vcpowershareprop
+vobject
+prodigy
+isapropertyof
+vcprodigyprop
+vobject
+telex
+isapropertyof
+vctlxprop
+vobject
+isapropertyof
+vcxprop
+tstring
+prefprop
+tstring
+vcardgetstringbyid
+vcardldappreftype
+home
+tstring
+vcardgetstringbyid
+vcardldaphometype
+work
+tstring
+vcardgetstringbyid
+vcardldapworktype
+aol
+tstring
+vcardgetstringbyid
+vcardldapaoltype
+applelink
+tstring
+vcardgetstringbyid
+vcardldapapplelinktype
+att
+tstring
+vcardgetstringbyid
+vcardldapattmailtype
+cis
+tstring
+vcardgetstringbyid
+vcardldapcsitype
+eworld
+tstring
+vcardgetstringbyid
+vcardldapeworldtype
+internet
+tstring
+vcardgetstringbyid
+vcardldapinternettype
+ibmmail
+tstring
+vcardgetstringbyid
+vcardldapibmmailtype
+mcimail
+tstring
+vcardgetstringbyid
+vcardldapmcimailtype
+powershare
+tstring
+vcardgetstringbyid
+vcardldappowersharetype
+prodigy
+tstring
+vcardgetstringbyid
+vcardldapprodigytype
+telex
+tstring
+vcardgetstringbyid
+vcardldaptlxtype
+tstring
+vcardgetstringbyid
+vcardldapx
+tstring
+nsmsgsacat
+attribname
+nsmsgsacat
+attribname
+tstring
+prfreeif
+tstring
+writeouteachvcardphoneproperty
+mimeobject
+obj
+vobject
+attribname
+value
+status
+vobjectname
+nscrt
+strcasecmp
+vctelephoneprop
+vobjectname
+valuetype
+gettelephoneproperties
+attribname
+attribname
+attribname
+vcardgetstringbyid
+vcardldapphonenumber
+attribname
+nsmsgsacat
+attribname
+value
+fakecstring
+vobjectustringzvalue
+value
+attribname
+status
+outputfont
+obj
+prfalse
+status
+prfreeif
+value
+prfreeif
+attribname
+status
+status
+writelinetostream
+obj
+attribname
+prfalse
+status
+prfreeif
+value
+prfreeif
+attribname
+status
+status
+writelinetostream
+obj
+value
+prtrue
+status
+prfreeif
+value
+prfreeif
+attribname
+status
+status
+outputfont
+obj
+prtrue
+status
+prfreeif
+value
+prfreeif
+attribname
+status
+prfreeif
+attribname
+prfreeif
+value
+status
+writeoutvcardphoneproperties
+mimeobject
+obj
+vobject
+status
+vobjectiterator
+vobject
+eachprop
+writeouteachvcardphoneproperty
+obj
+initpropiterator
+moreiteration
+status
+eachprop
+nextvobject
+status
+writeouteachvcardphoneproperty
+obj
+eachprop
+status
+status
+writeouteachvcardproperty
+mimeobject
+obj
+vobject
+numemail
+attribname
+url
+value
+status
+vobjectname
+nscrt
+strcasecmp
+vcphotoprop
+vobjectname
+vobject
+urlprop
+isapropertyof
+vcurlprop
+urlprop
+attribname
+vcardgetstringbyid
+vcardldapphotograph
+value
+fakecstring
+vobjectustringzvalue
+value
+url
+prsmprintf
+img
+src
+value
+prfreeif
+value
+value
+dowrite
+nscrt
+strcasecmp
+vcbirthdateprop
+vobjectname
+valuetype
+attribname
+vcardgetstringbyid
+vcardldapbirthday
+value
+fakecstring
+vobjectustringzvalue
+dowrite
+nscrt
+strcasecmp
+vcdeliverylabelprop
+vobjectname
+attribname
+vcardgetstringbyid
+vcardldaplabel
+getaddressproperties
+attribname
+value
+fakecstring
+vobjectustringzvalue
+dowrite
+nscrt
+strcasecmp
+vcemailaddressprop
+vobjectname
+numemail
+valuetype
+numemail
+attribname
+vcardgetstringbyid
+vcardldapemailaddress
+getemailproperties
+attribname
+value
+fakecstring
+vobjectustringzvalue
+dowrite
+nscrt
+strcasecmp
+vcfamilynameprop
+vobjectname
+valuetype
+attribname
+vcardgetstringbyid
+vcardldapsurname
+value
+fakecstring
+vobjectustringzvalue
+dowrite
+nscrt
+strcasecmp
+vcgivennameprop
+vobjectname
+valuetype
+attribname
+vcardgetstringbyid
+vcardldapgivenname
+value
+fakecstring
+vobjectustringzvalue
+dowrite
+nscrt
+strcasecmp
+vcnameprefixesprop
+vobjectname
+valuetype
+attribname
+vcardgetstringbyid
+vcardldapnameprefix
+value
+fakecstring
+vobjectustringzvalue
+dowrite
+nscrt
+strcasecmp
+vcnamesuffixesprop
+vobjectname
+valuetype
+attribname
+vcardgetstringbyid
+vcardldapnamesuffix
+value
+fakecstring
+vobjectustringzvalue
+dowrite
+nscrt
+strcasecmp
+vcadditionalnamesprop
+vobjectname
+valuetype
+attribname
+vcardgetstringbyid
+vcardldapmiddlename
+value
+fakecstring
+vobjectustringzvalue
+dowrite
+nscrt
+strcasecmp
+vcmailerprop
+vobjectname
+valuetype
+attribname
+vcardgetstringbyid
+vcardldapmailer
+value
+fakecstring
+vobjectustringzvalue
+dowrite
+nscrt
+strcasecmp
+vctimezoneprop
+vobjectname
+valuetype
+attribname
+vcardgetstringbyid
+vcardldaptz
+value
+fakecstring
+vobjectustringzvalue
+dowrite
+nscrt
+strcasecmp
+vcgeoprop
+vobjectname
+valuetype
+attribname
+vcardgetstringbyid
+vcardldapgeo
+value
+fakecstring
+vobjectustringzvalue
+dowrite
+nscrt
+strcasecmp
+vcbusinessroleprop
+vobjectname
+valuetype
+attribname
+vcardgetstringbyid
+vcardldaprole
+value
+fakecstring
+vobjectustringzvalue
+dowrite
+nscrt
+strcasecmp
+vclogoprop
+vobjectname
+vobject
+urlprop
+isapropertyof
+vcurlprop
+urlprop
+attribname
+vcardgetstringbyid
+vcardldaplogo
+value
+fakecstring
+vobjectustringzvalue
+value
+url
+prsmprintf
+img
+src
+value
+prfreeif
+value
+dowrite
+nscrt
+strcasecmp
+vcagentprop
+vobjectname
+attribname
+vcardgetstringbyid
+vcardldapsecretary
+dowrite
+nscrt
+strcasecmp
+vclastrevisedprop
+vobjectname
+valuetype
+attribname
+vcardgetstringbyid
+vcardldaprevision
+value
+fakecstring
+vobjectustringzvalue
+dowrite
+nscrt
+strcasecmp
+vcpronunciationprop
+vobjectname
+valuetype
+attribname
+vcardgetstringbyid
+vcardldapsound
+value
+fakecstring
+vobjectustringzvalue
+dowrite
+nscrt
+strcasecmp
+vcversionprop
+vobjectname
+valuetype
+attribname
+vcardgetstringbyid
+vcardldapversion
+value
+fakecstring
+vobjectustringzvalue
+dowrite
+attribname
+dowrite
+outputtablerowordata
+obj
+prtrue
+prfalse
+left
+top
+outputtablerowordata
+obj
+prfalse
+prfalse
+left
+top
+attribname
+outputtablerowordata
+obj
+prfalse
+prfalse
+left
+top
+status
+writeattribute
+obj
+attribname
+prfree
+attribname
+outputtablerowordata
+obj
+prfalse
+prtrue
+value
+outputtablerowordata
+obj
+prfalse
+prfalse
+left
+top
+status
+writevalue
+obj
+value
+prfree
+value
+outputtablerowordata
+obj
+prfalse
+prtrue
+url
+outputtablerowordata
+obj
+prfalse
+prfalse
+left
+top
+status
+writevalue
+obj
+url
+prfree
+url
+outputtablerowordata
+obj
+prfalse
+prtrue
+outputtablerowordata
+obj
+prtrue
+prtrue
+status
+status
+writeoutvcardproperties
+mimeobject
+obj
+vobject
+numemail
+status
+vobjectiterator
+vobject
+eachprop
+writeouteachvcardproperty
+obj
+numemail
+initpropiterator
+moreiteration
+status
+eachprop
+nextvobject
+status
+writeoutvcardproperties
+obj
+eachprop
+numemail
+status
+status
+findcharacterset
+mimeobject
+obj
+retcharset
+nsnull
+tcharset
+nsnull
+workstring
+nsnull
+obj
+headers
+obj
+headers
+allheaders
+nsnull
+workstring
+prmalloc
+obj
+headers
+allheaderssize
+workstring
+nsnull
+memset
+workstring
+obj
+headers
+allheaderssize
+memcpy
+workstring
+obj
+headers
+allheaders
+obj
+headers
+allheaderssize
+ctypeptr
+plstrcasestr
+workstring
+headercontenttype
+ctypeptr
+prfreeif
+workstring
+nsnull
+ctypeptr
+ctypeptr
+nscrt
+cr
+ctypeptr
+nscrt
+lf
+tcharset
+plstrcasestr
+ctypeptr
+charset
+tcharset
+ctypeptr
+tcharset
+strlen
+tcharset
+retcharset
+plstrdup
+tcharset
+ptr
+retcharset
+ptr
+ptr
+ptr
+ptr
+nscrt
+cr
+ptr
+nscrt
+lf
+ptr
+ptr
+prfreeif
+workstring
+retcharset
+writelinetostream
+mimeobject
+obj
+line
+prbool
+adocharconversion
+status
+htmlline
+htmllen
+converted
+print
+convertedlength
+print
+res
+charset
+nsnull
+line
+line
+adocharconversion
+charset
+plstrcasestr
+obj
+contenttype
+charset
+charset
+charset
+findcharacterset
+obj
+charset
+charset
+nscrt
+strcasecmp
+charset
+us
+ascii
+prfree
+charset
+charset
+nscrt
+strdup
+iso
+res
+intlconvertcharset
+charset
+utf
+line
+strlen
+line
+converted
+convertedlength
+res
+converted
+converted
+line
+converted
+convertedlength
+converted
+line
+htmllen
+strlen
+converted
+strlen
+dt
+dt
+htmlline
+prmalloc
+htmllen
+htmlline
+htmlline
+plstrcat
+htmlline
+dt
+plstrcat
+htmlline
+converted
+plstrcat
+htmlline
+dt
+status
+commimeobjectwrite
+obj
+htmlline
+strlen
+htmlline
+prtrue
+prfree
+htmlline
+status
+vcardoutofmemory
+converted
+line
+prfreeif
+converted
+prfreeif
+charset
+status
+writeattribute
+mimeobject
+obj
+attrib
+status
+outputfont
+obj
+prfalse
+status
+writelinetostream
+obj
+attrib
+prfalse
+outputfont
+obj
+prtrue
+status
+writevalue
+mimeobject
+obj
+value
+status
+outputfont
+obj
+prfalse
+status
+writelinetostream
+obj
+value
+prtrue
+outputfont
+obj
+prtrue
+status
+vcardgetstringbyid
+print
+amsgid
+tempstring
+nsnull
+nsresult
+res
+nsok
+ifdef
+xpmac
+nscomptr
+nsistringbundle
+stringbundle
+nsnull
+endif
+stringbundle
+propertyurl
+propertyurl
+vcardurl
+nscomptr
+nsistringbundleservice
+sbundleservice
+dogetservice
+nsstringbundlecontractid
+res
+nssucceeded
+res
+nsnull
+sbundleservice
+res
+sbundleservice
+createbundle
+propertyurl
+getteraddrefs
+stringbundle
+stringbundle
+prunichar
+ptrv
+nsnull
+res
+stringbundle
+getstringfromid
+amsgid
+ptrv
+nsfailed
+res
+nscrt
+strdup
+nsautostring
+append
+ptrv
+prfreeif
+ptrv
+tempstring
+tonewutfstring
+tempstring
+nscrt
+strdup
+tempstring
\ No newline at end of file
@@ -0,0 +1,1670 @@
+nsvcard
+nsvcardobj
+nsfilestream
+prprf
+ifndef
+lint
+yysccsid
+yaccpar
+berkeley
+endif
+define
+dbg
+ifndef
+nolinefolding
+define
+supportlinefolding
+endif
+define
+yyparse
+mimeparse
+define
+yylex
+mimelex
+define
+yyerror
+mimeerror
+define
+yychar
+mimechar
+undef
+yyval
+define
+yyval
+mimeyyval
+undef
+yylval
+define
+yylval
+mimeyylval
+define
+yydebug
+mimedebug
+define
+yynerrs
+mimenerrs
+define
+yyerrflag
+mimeerrflag
+define
+yyss
+mimess
+define
+yyssp
+mimessp
+define
+yyvs
+mimevs
+define
+yyvsp
+mimevsp
+define
+yylhs
+mimelhs
+define
+yylen
+mimelen
+define
+yydefred
+mimedefred
+define
+yydgoto
+mimedgoto
+define
+yysindex
+mimesindex
+define
+yyrindex
+mimerindex
+define
+yygindex
+mimegindex
+define
+yytable
+mimetable
+define
+yycheck
+mimecheck
+define
+yyname
+mimename
+define
+yyrule
+mimerule
+define
+yyprefix
+mime
+prmem
+plstr
+ifndef
+false
+define
+false
+endif
+ifndef
+true
+define
+true
+endif
+define
+yydebug
+define
+prmaxtoken
+define
+yystacksize
+define
+prmaxlevel
+mimelinenum
+mimenumerrors
+vobject
+vobjlist
+vobject
+curprop
+vobject
+curobj
+vobject
+objstack
+prmaxlevel
+objstacktop
+ifdef
+cplusplus
+endif
+yyerror
+fieldedprop
+ifdef
+cplusplus
+endif
+yyparse
+lexmode
+lnormal
+lvcard
+lvcal
+lvevent
+lvtodo
+lvalues
+lbase
+lquotedprintable
+pushvobject
+prop
+vobject
+popvobject
+lexgeta
+lexgetc
+lexgetc
+lexskiplookahead
+lexlookahead
+lexskipwhite
+lexcleartoken
+lexstr
+lexgetdatafrombase
+lexgetquotedprintable
+lexgetvalue
+lexgetword
+finilex
+vobject
+parsemimehelper
+lexpopmode
+top
+lexwithinmode
+lexmode
+mode
+lexpushmode
+lexmode
+mode
+enterprops
+enterattr
+entervalues
+value
+mimeerror
+str
+vobject
+vobj
+yystype
+define
+eq
+define
+colon
+define
+dot
+define
+semicolon
+define
+space
+define
+htab
+define
+linesep
+define
+newline
+define
+beginvcard
+define
+endvcard
+define
+beginvcal
+define
+endvcal
+define
+beginvevent
+define
+endvevent
+define
+beginvtodo
+define
+endvtodo
+define
+id
+define
+string
+define
+yyerrcode
+yylhs
+yylen
+yydefred
+yydgoto
+yysindex
+yyrindex
+yygindex
+define
+yytablesize
+yytable
+yycheck
+define
+yyfinal
+ifndef
+yydebug
+define
+yydebug
+endif
+define
+yyprmaxtoken
+yydebug
+yyname
+end
+of
+file
+eq
+colon
+dot
+semicolon
+space
+htab
+linesep
+newline
+beginvcard
+endvcard
+beginvcal
+endvcal
+beginvevent
+endvevent
+beginvtodo
+endvtodo
+id
+string
+yyrule
+accept
+mime
+mime
+vobjects
+vobjects
+vobject
+vobjects
+vobjects
+vobject
+vobject
+vcard
+vobject
+vcal
+vcard
+beginvcard
+items
+endvcard
+vcard
+beginvcard
+endvcard
+items
+item
+items
+items
+item
+item
+prop
+colon
+values
+linesep
+item
+error
+prop
+name
+attrparams
+prop
+name
+attrparams
+attrparam
+attrparams
+attrparams
+attrparam
+attrparam
+semicolon
+attr
+attr
+name
+attr
+name
+eq
+name
+name
+id
+values
+value
+semicolon
+values
+values
+value
+value
+string
+value
+vcal
+beginvcal
+calitems
+endvcal
+vcal
+beginvcal
+endvcal
+calitems
+calitem
+calitems
+calitems
+calitem
+calitem
+eventitem
+calitem
+todoitem
+calitem
+items
+eventitem
+beginvevent
+items
+endvevent
+eventitem
+beginvevent
+endvevent
+todoitem
+beginvtodo
+items
+endvtodo
+todoitem
+beginvtodo
+endvtodo
+endif
+define
+yyclearin
+yychar
+define
+yyerrok
+yyerrflag
+ifndef
+yystacksize
+ifdef
+yyprmaxdepth
+define
+yystacksize
+yyprmaxdepth
+define
+yystacksize
+endif
+endif
+yydebug
+yynerrs
+yyerrflag
+yychar
+yyssp
+yystype
+yyvsp
+yystype
+yyval
+yystype
+yylval
+define
+yystacksize
+yystacksize
+yyss
+yystacksize
+yystype
+yyvs
+yystacksize
+pushvobject
+prop
+vobject
+newobj
+objstacktop
+prmaxlevel
+false
+objstack
+objstacktop
+curobj
+curobj
+newobj
+addprop
+curobj
+prop
+curobj
+newobj
+curobj
+newvobject
+prop
+true
+vobject
+popvobject
+vobject
+oldobj
+objstacktop
+yyerror
+pop
+on
+empty
+object
+stack
+oldobj
+curobj
+curobj
+objstack
+objstacktop
+oldobj
+deletestring
+entervalues
+value
+fieldedprop
+fieldedprop
+value
+addpropvalue
+curprop
+fieldedprop
+value
+fieldedprop
+value
+setvobjectustringzvalue
+curprop
+fakeunicode
+value
+deletestring
+value
+enterprops
+curprop
+addgroup
+curobj
+deletestring
+enterattr
+nsnull
+lookupprop
+vobject
+lookupprop
+addprop
+curprop
+setvobjectstringzvalue
+addprop
+curprop
+plstrcasecmp
+vcbaseprop
+plstrcasecmp
+vcbaseprop
+lexpushmode
+lbase
+plstrcasecmp
+vcquotedprintableprop
+plstrcasecmp
+vcquotedprintableprop
+lexpushmode
+lquotedprintable
+deletestring
+deletestring
+define
+prmaxlexlookahead
+define
+prmaxlexlookahead
+define
+prmaxlexmodestacksize
+define
+lexmode
+lexbuf
+lexmodestack
+lexbuf
+lexmodestacktop
+lexbuf
+nsinputfilestream
+inputfile
+inputstring
+curpos
+inputlen
+len
+buf
+prmaxlexlookahead
+getptr
+lexmodestacktop
+lexmode
+lexmodestack
+prmaxlexmodestacksize
+maxtoken
+strs
+strslen
+lexbuf
+lexpushmode
+lexmode
+mode
+lexbuf
+lexmodestacktop
+prmaxlexmodestacksize
+yyerror
+lexical
+context
+stack
+overflow
+lexbuf
+lexmodestack
+lexbuf
+lexmodestacktop
+mode
+lexpopmode
+top
+top
+lexbuf
+lexmodestacktop
+lexbuf
+lexmodestacktop
+lexbuf
+lexmodestacktop
+lexwithinmode
+lexmode
+mode
+lexbuf
+lexmodestacktop
+mode
+lexbuf
+lexmodestack
+lexgetc
+lexbuf
+curpos
+lexbuf
+inputlen
+eof
+lexbuf
+inputstring
+lexbuf
+inputstring
+lexbuf
+curpos
+nsresult
+status
+status
+lexbuf
+inputfile
+read
+status
+lexgeta
+lexbuf
+len
+lexbuf
+buf
+lexbuf
+getptr
+lexgetc
+lexgeta
+lexbuf
+len
+lexbuf
+buf
+lexbuf
+getptr
+prmaxlexlookahead
+lexgetc
+lexskiplookahead
+lexbuf
+len
+lexbuf
+buf
+lexbuf
+getptr
+eof
+lexbuf
+getptr
+lexbuf
+getptr
+prmaxlexlookahead
+lexbuf
+len
+lexlookahead
+lexbuf
+len
+lexbuf
+buf
+lexbuf
+getptr
+lexgeta
+lexbuf
+len
+lexbuf
+buf
+lexbuf
+getptr
+prmaxlexlookahead
+lexgeta
+lexskiplookahead
+lexbuf
+buf
+lexbuf
+getptr
+lexbuf
+len
+lexbuf
+buf
+lexbuf
+getptr
+lexgeta
+lexskiplookahead
+lexbuf
+buf
+lexbuf
+getptr
+lexgetc
+lexlookahead
+lexbuf
+len
+lexbuf
+buf
+lexbuf
+getptr
+eof
+lexbuf
+getptr
+lexbuf
+getptr
+prmaxlexlookahead
+lexbuf
+len
+lexskiplookaheadword
+lexbuf
+strslen
+lexbuf
+len
+lexbuf
+len
+lexbuf
+strslen
+lexbuf
+getptr
+lexbuf
+getptr
+lexbuf
+strslen
+prmaxlexlookahead
+lexcleartoken
+lexbuf
+strslen
+lexappendc
+lexbuf
+strs
+lexbuf
+strslen
+lexbuf
+strslen
+lexbuf
+strslen
+lexbuf
+maxtoken
+lexbuf
+maxtoken
+lexbuf
+strs
+prrealloc
+lexbuf
+strs
+lexbuf
+maxtoken
+lexstr
+dupstr
+lexbuf
+strs
+lexbuf
+strslen
+lexskipwhite
+lexlookahead
+lexskiplookahead
+lexlookahead
+lexgetword
+lexskipwhite
+lexcleartoken
+lexlookahead
+eof
+plstrchr
+lexappendc
+lexskiplookahead
+lexlookahead
+lexappendc
+lexstr
+lexpushlookahead
+len
+putptr
+len
+len
+plstrlen
+putptr
+lexbuf
+getptr
+len
+putptr
+putptr
+prmaxlexlookahead
+lexbuf
+getptr
+putptr
+lexbuf
+buf
+putptr
+putptr
+putptr
+prmaxlexlookahead
+lexbuf
+len
+len
+endif
+lexpushlookaheadc
+putptr
+eof
+putptr
+lexbuf
+getptr
+putptr
+putptr
+prmaxlexlookahead
+lexbuf
+getptr
+putptr
+lexbuf
+buf
+putptr
+lexbuf
+len
+lexlookaheadword
+len
+curgetptr
+lexskipwhite
+lexcleartoken
+curgetptr
+lexbuf
+getptr
+len
+prmaxlexlookahead
+lexgetc
+len
+eof
+plstrchr
+lexappendc
+lexbuf
+len
+len
+lexbuf
+getptr
+curgetptr
+lexstr
+lexappendc
+lexbuf
+len
+len
+lexbuf
+getptr
+curgetptr
+ifdef
+supportlinefolding
+handlemorerfclinebreak
+lexskiplookahead
+lexlookahead
+lexskiplookahead
+lexlookahead
+lexskiplookahead
+lexlookahead
+lexskipwhite
+lexpushlookaheadc
+lexpushlookaheadc
+lexpushlookaheadc
+lexpushlookaheadc
+lexgetvalue
+lexskipwhite
+lexlookahead
+lexcleartoken
+eof
+lexskiplookahead
+lexlookahead
+lexappendc
+lexskiplookahead
+lexpushlookaheadc
+lexappendc
+lexskiplookahead
+lexlookahead
+lexappendc
+handlemorerfclinebreak
+eof
+lexstr
+endif
+ifndef
+supportlinefolding
+lexgetstruntil
+termset
+lexlookahead
+lexcleartoken
+eof
+plstrchr
+termset
+lexappendc
+lexskiplookahead
+lexlookahead
+lexappendc
+eof
+lexstr
+endif
+matchbeginname
+end
+lexlookaheadword
+token
+id
+plstrcasecmp
+vcard
+token
+end
+endvcard
+beginvcard
+plstrcasecmp
+vcalendar
+token
+end
+endvcal
+beginvcal
+plstrcasecmp
+vevent
+token
+end
+endvevent
+beginvevent
+plstrcasecmp
+vtodo
+token
+end
+endvtodo
+beginvtodo
+deletestring
+token
+defined
+xpmac
+defined
+mwerks
+pragma
+warnpossunwant
+off
+pragma
+requireprototypes
+off
+endif
+initlex
+inputstring
+inputlen
+nsinputfilestream
+inputfile
+lexbuf
+lexmodestack
+lexbuf
+lexmodestacktop
+lnormal
+lexbuf
+inputstring
+inputstring
+lexbuf
+inputlen
+inputlen
+lexbuf
+curpos
+lexbuf
+inputfile
+inputfile
+lexbuf
+len
+lexbuf
+getptr
+lexbuf
+maxtoken
+prmaxtoken
+lexbuf
+strs
+prcalloc
+prmaxtoken
+lexbuf
+strslen
+finilex
+prfreeif
+lexbuf
+strs
+lexgetdatafrombase
+byteslen
+bytesmax
+quadix
+pad
+trip
+bytes
+oldbytes
+dbg
+db
+lexgetdatafrombase
+lexgetc
+mimelinenum
+lexlookahead
+pad
+prfreeif
+bytes
+prfreeif
+oldbytes
+dbg
+db
+invalid
+character
+eof
+lexgetc
+eof
+lexlookahead
+mimelinenum
+lexgetc
+trip
+trip
+quadix
+outbytes
+numout
+outbytes
+trip
+xff
+trip
+numout
+pad
+byteslen
+numout
+bytesmax
+bytes
+bytesmax
+bytes
+prcalloc
+bytesmax
+bytesmax
+oldbytes
+bytes
+bytes
+prrealloc
+bytes
+bytesmax
+bytes
+mimeerror
+out
+of
+memory
+processing
+base
+data
+bytes
+memcpy
+bytes
+byteslen
+outbytes
+numout
+byteslen
+numout
+trip
+quadix
+dbg
+db
+byteslen
+byteslen
+bytes
+setvaluewithsize
+curprop
+bytes
+byteslen
+prfreeif
+bytes
+oldbytes
+setvaluewithsize
+curprop
+oldbytes
+byteslen
+prfreeif
+oldbytes
+matchbeginendname
+end
+token
+lexskipwhite
+lexlookahead
+id
+lexskiplookahead
+lexskipwhite
+token
+matchbeginname
+end
+token
+id
+lexpushlookaheadc
+dbg
+db
+id
+yylval
+str
+id
+token
+lexskiplookaheadword
+deletestring
+yylval
+str
+dbg
+db
+begin
+end
+token
+token
+lexgetquotedprintable
+cur
+lexcleartoken
+cur
+lexgetc
+cur
+next
+tab
+next
+lexgetc
+next
+next
+next
+next
+next
+next
+next
+tab
+lexgetc
+tab
+lexskipwhite
+mimelinenum
+lexappendc
+cur
+lexpushlookaheadc
+next
+lexpushlookaheadc
+next
+lexappendc
+lexappendc
+lexpushlookaheadc
+endstring
+lexpushlookaheadc
+endstring
+eof
+lexappendc
+cur
+cur
+eof
+endstring
+lexappendc
+lexstr
+yylex
+lexmode
+lexmode
+lexmode
+lvalues
+lexgetc
+dbg
+db
+semicolon
+ifdef
+supportlinefolding
+lexpushlookaheadc
+handlemorerfclinebreak
+lexskiplookahead
+endif
+semicolon
+plstrchr
+mimelinenum
+lexlookahead
+plstrchr
+lexskiplookahead
+lexlookahead
+mimelinenum
+dbg
+db
+linesep
+linesep
+lexpushlookaheadc
+lexwithinmode
+lbase
+lexgetdatafrombase
+yylval
+str
+string
+lexwithinmode
+lquotedprintable
+lexgetquotedprintable
+ifdef
+supportlinefolding
+lexgetvalue
+lexgetstruntil
+endif
+dbg
+db
+string
+yylval
+str
+string
+lexgetc
+lexlookahead
+plstrchr
+lexskiplookahead
+lexlookahead
+mimelinenum
+dbg
+db
+colon
+colon
+dbg
+db
+semicolon
+semicolon
+dbg
+db
+eq
+eq
+mimelinenum
+eof
+lexpushlookaheadc
+isalpha
+lexgetword
+yylval
+str
+plstrcasecmp
+begin
+matchbeginendname
+plstrcasecmp
+end
+matchbeginendname
+dbg
+db
+id
+id
+vobject
+parsemimehelper
+objstacktop
+mimenumerrors
+mimelinenum
+vobjlist
+curobj
+yyparse
+finilex
+vobjlist
+vobject
+parsemime
+input
+len
+initlex
+input
+len
+parsemimehelper
+vobject
+parsemimefromfile
+nsinputfilestream
+file
+vobject
+result
+startpos
+initlex
+file
+startpos
+file
+tell
+result
+parsemimehelper
+file
+seek
+startpos
+result
+vobject
+parsemimefromfilename
+nsfilespec
+fname
+defined
+mozaddrstandalone
+nsinputfilestream
+fp
+nsinputfilestream
+fname
+fp
+vobject
+parsemimefromfile
+fp
+fp
+close
+msg
+prsnprintf
+msg
+msg
+can
+open
+file
+reading
+mimeerror
+msg
+nsassertion
+false
+rhp
+netscape
+jan
+endif
+mimeerrorhandler
+mimeerrorhandler
+registermimeerrorhandler
+mimeerrorhandler
+me
+mimeerrorhandler
+me
+mimeerror
+msg
+mimeerrorhandler
+prsnprintf
+msg
+msg
+at
+line
+mimelinenum
+mimeerrorhandler
+msg
+mimeerror
+mimeerrorhandler
+mimeerrorhandler
+define
+yyabort
+yyabort
+define
+yyaccept
+yyaccept
+define
+yyerror
+yyerrlab
+yyparse
+yym
+yyn
+yystate
+yydebug
+yys
+getenv
+yys
+getenv
+yydebug
+yyn
+yys
+yyn
+yyn
+yydebug
+yyn
+endif
+yynerrs
+yyerrflag
+yychar
+yyssp
+yyss
+yyvsp
+yyvs
+yyssp
+yystate
+yyloop
+yyn
+yydefred
+yystate
+yyreduce
+yychar
+yychar
+yylex
+yychar
+yydebug
+yydebug
+yys
+yychar
+yyprmaxtoken
+yys
+yyname
+yychar
+yys
+yys
+illegal
+symbol
+printf
+yydebug
+state
+reading
+yystate
+yychar
+yys
+endif
+yyn
+yysindex
+yystate
+yyn
+yychar
+yyn
+yytablesize
+yycheck
+yyn
+yychar
+yydebug
+yydebug
+printf
+yydebug
+state
+shifting
+to
+state
+yystate
+yytable
+yyn
+endif
+yyssp
+yyss
+yystacksize
+yyoverflow
+yyssp
+yystate
+yytable
+yyn
+yyvsp
+yylval
+yychar
+yyerrflag
+yyerrflag
+yyloop
+yyn
+yyrindex
+yystate
+yyn
+yychar
+yyn
+yytablesize
+yycheck
+yyn
+yychar
+yyn
+yytable
+yyn
+yyreduce
+yyerrflag
+yyinrecovery
+ifdef
+lint
+yynewerror
+endif
+yyerror
+syntax
+error
+ifdef
+lint
+yyerrlab
+endif
+yyerrlab
+yynerrs
+yyinrecovery
+yyerrflag
+yyerrflag
+yyn
+yysindex
+yyssp
+yyn
+yyerrcode
+yyn
+yytablesize
+yycheck
+yyn
+yyerrcode
+yydebug
+yydebug
+printf
+yydebug
+state
+error
+recovery
+shifting
+to
+state
+yyssp
+yytable
+yyn
+endif
+yyssp
+yyss
+yystacksize
+yyoverflow
+yyssp
+yystate
+yytable
+yyn
+yyvsp
+yylval
+yyloop
+yydebug
+yydebug
+printf
+yydebug
+error
+recovery
+discarding
+state
+yyssp
+endif
+yyssp
+yyss
+yyabort
+yyssp
+yyvsp
+yychar
+yyabort
+yydebug
+yydebug
+yys
+yychar
+yyprmaxtoken
+yys
+yyname
+yychar
+yys
+yys
+illegal
+symbol
+printf
+yydebug
+state
+error
+recovery
+discards
+token
+yystate
+yychar
+yys
+endif
+yychar
+yyloop
+yyreduce
+yydebug
+yydebug
+printf
+yydebug
+state
+reducing
+by
+rule
+yystate
+yyn
+yyrule
+yyn
+endif
+yym
+yylen
+yyn
+yyval
+yyvsp
+yym
+yyn
+addlist
+vobjlist
+yyvsp
+vobj
+curobj
+addlist
+vobjlist
+yyvsp
+vobj
+curobj
+lexpushmode
+lvcard
+pushvobject
+vccardprop
+yyerror
+lexpopmode
+yyval
+vobj
+popvobject
+lexpushmode
+lvcard
+pushvobject
+vccardprop
+yyerror
+lexpopmode
+yyval
+vobj
+popvobject
+lexpushmode
+lvalues
+lexwithinmode
+lbase
+lexwithinmode
+lquotedprintable
+lexpopmode
+lexpopmode
+enterprops
+yyvsp
+str
+enterprops
+yyvsp
+str
+enterattr
+yyvsp
+str
+enterattr
+yyvsp
+str
+yyvsp
+str
+entervalues
+yyvsp
+str
+entervalues
+yyvsp
+str
+yyval
+str
+pushvobject
+vccalprop
+yyerror
+yyval
+vobj
+popvobject
+pushvobject
+vccalprop
+yyerror
+yyval
+vobj
+popvobject
+lexpushmode
+lvevent
+pushvobject
+vceventprop
+yyerror
+lexpopmode
+popvobject
+lexpushmode
+lvevent
+pushvobject
+vceventprop
+yyerror
+lexpopmode
+popvobject
+lexpushmode
+lvtodo
+pushvobject
+vctodoprop
+yyerror
+lexpopmode
+popvobject
+lexpushmode
+lvtodo
+pushvobject
+vctodoprop
+yyerror
+lexpopmode
+popvobject
+yyssp
+yym
+yystate
+yyssp
+yyvsp
+yym
+yym
+yylhs
+yyn
+yystate
+yym
+yydebug
+yydebug
+printf
+yydebug
+after
+reduction
+shifting
+from
+state
+to
+state
+yyfinal
+endif
+yystate
+yyfinal
+yyssp
+yyfinal
+yyvsp
+yyval
+yychar
+yychar
+yylex
+yychar
+yydebug
+yydebug
+yys
+yychar
+yyprmaxtoken
+yys
+yyname
+yychar
+yys
+yys
+illegal
+symbol
+printf
+yydebug
+state
+reading
+yyfinal
+yychar
+yys
+endif
+yychar
+yyaccept
+yyloop
+yyn
+yygindex
+yym
+yyn
+yystate
+yyn
+yytablesize
+yycheck
+yyn
+yystate
+yystate
+yytable
+yyn
+yystate
+yydgoto
+yym
+yydebug
+yydebug
+printf
+yydebug
+after
+reduction
+shifting
+from
+state
+to
+state
+yyssp
+yystate
+endif
+yyssp
+yyss
+yystacksize
+yyoverflow
+yyssp
+yystate
+yyvsp
+yyval
+yyloop
+yyoverflow
+yyerror
+yacc
+stack
+overflow
+yyabort
+yyaccept
\ No newline at end of file
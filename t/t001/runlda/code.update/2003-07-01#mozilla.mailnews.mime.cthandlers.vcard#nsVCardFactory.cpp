@@ -0,0 +1,62 @@
+nsigenericfactory
+nsmimecontenttypehandler
+define
+vcardcontenttype
+text
+vcard
+mimeobjectclass
+mimevcardcreatecontenttypehandlerclass
+contenttype
+contenttypehandlerinitstruct
+initstruct
+nsimethodimp
+nsvcardmimecontenttypehandlerconstructor
+nsisupports
+aouter
+refnsiid
+aiid
+aresult
+nsresult
+rv
+nsmimecontenttypehandler
+inst
+nsnull
+aresult
+rv
+nserrornullpointer
+rv
+aresult
+aouter
+rv
+nserrornoaggregation
+rv
+inst
+nsmimecontenttypehandler
+vcardcontenttype
+mimevcardcreatecontenttypehandlerclass
+inst
+nserroroutofmemory
+nsaddref
+inst
+rv
+inst
+queryinterface
+aiid
+aresult
+nsrelease
+inst
+rv
+nsmodulecomponentinfo
+components
+mime
+vcard
+handler
+nsvcardcontenttypehandlercid
+mimecth
+type
+text
+vcard
+nsvcardmimecontenttypehandlerconstructor
+nsimplnsgetmodule
+nsvcardmodule
+components
\ No newline at end of file
@@ -0,0 +1,1554 @@
+prlog
+nsvcard
+nsvcardobj
+prmem
+plstr
+msgcore
+prprf
+define
+dbg
+ifdef
+cplusplus
+endif
+fieldedprop
+ifdef
+cplusplus
+endif
+vobject
+newvobject
+id
+vobjectvaluetype
+vobject
+initvobjectiterator
+vobjectiterator
+vobject
+endif
+prbool
+needsquotedprintable
+plstrstr
+msglinebreak
+prtrue
+prtrue
+prfalse
+vobject
+newvobject
+id
+vobject
+vobject
+vobject
+next
+id
+id
+prop
+valuetype
+anyvalueof
+vobject
+newvobject
+id
+newvobject
+lookupstr
+id
+deletevobject
+vobject
+unusestr
+id
+dupstr
+size
+size
+size
+plstrlen
+prcalloc
+size
+memcpy
+size
+size
+stritem
+newstritem
+stritem
+next
+stritem
+stritem
+prcalloc
+stritem
+next
+next
+refcnt
+deletestring
+prfree
+deletestritem
+stritem
+prfreeif
+vobjectname
+vobject
+nameof
+setvobjectname
+vobject
+id
+nameof
+id
+vobjectstringzvalue
+vobject
+stringzvalueof
+setvobjectstringzvalue
+vobject
+stringzvalueof
+dupstr
+valuetype
+vcvtstringz
+setvobjectstringzvalue
+vobject
+stringzvalueof
+valuetype
+vcvtstringz
+vwchart
+vobjectustringzvalue
+vobject
+ustringzvalueof
+setvobjectustringzvalue
+vobject
+vwchart
+ustringzvalueof
+vwchart
+dupstr
+ustrlen
+valuetype
+vcvtustringz
+setvobjectustringzvalue
+vobject
+vwchart
+ustringzvalueof
+valuetype
+vcvtustringz
+vobjectintegervalue
+vobject
+integervalueof
+setvobjectintegervalue
+vobject
+integervalueof
+valuetype
+vcvtuint
+vobjectlongvalue
+vobject
+longvalueof
+setvobjectlongvalue
+vobject
+longvalueof
+valuetype
+vcvtulong
+vobjectanyvalue
+vobject
+anyvalueof
+setvobjectanyvalue
+vobject
+anyvalueof
+valuetype
+vcvtraw
+vobject
+vobjectvobjectvalue
+vobject
+vobjectvalueof
+setvobjectvobjectvalue
+vobject
+vobject
+vobjectvalueof
+valuetype
+vcvtvobject
+vobjectvaluetype
+vobject
+valuetype
+endif
+vobject
+addvobjectprop
+vobject
+vobject
+vobject
+tail
+prop
+tail
+next
+tail
+next
+prop
+tail
+next
+prop
+next
+vobject
+addprop
+vobject
+id
+addvobjectprop
+newvobject
+id
+vobject
+addprop
+vobject
+id
+addvobjectprop
+newvobject
+id
+addlist
+vobject
+vobject
+next
+vobject
+next
+next
+next
+vobject
+nextvobjectinlist
+vobject
+next
+vobject
+setvaluewithsize
+vobject
+prop
+val
+size
+vobject
+sizeprop
+setvobjectanyvalue
+prop
+val
+sizeprop
+addprop
+prop
+vcdatasizeprop
+setvobjectlongvalue
+sizeprop
+size
+prop
+vobject
+setvaluewithsize
+vobject
+prop
+val
+size
+dupstr
+val
+size
+setvaluewithsize
+prop
+size
+initpropiterator
+vobjectiterator
+vobject
+start
+prop
+next
+initvobjectiterator
+vobjectiterator
+vobject
+start
+next
+next
+endif
+moreiteration
+vobjectiterator
+start
+next
+next
+start
+vobject
+nextvobject
+vobjectiterator
+start
+next
+start
+next
+next
+start
+next
+next
+next
+next
+next
+next
+vobject
+vobject
+isapropertyof
+vobject
+id
+vobjectiterator
+initpropiterator
+moreiteration
+vobject
+each
+nextvobject
+plstrcasecmp
+id
+each
+id
+each
+vobject
+vobject
+addgroup
+vobject
+dot
+plstrrchr
+dot
+vobject
+gs
+dot
+gs
+dupstr
+addprop
+lookupprop
+dot
+plstrrchr
+gs
+dot
+dot
+plstrrchr
+gs
+dot
+dot
+dot
+gs
+addprop
+vcgroupingprop
+setvobjectstringzvalue
+lookupprop
+gs
+deletestring
+gs
+addprop
+lookupprop
+vobject
+addpropvalue
+vobject
+vobject
+prop
+prop
+addprop
+setvobjectustringzvalue
+prop
+fakeunicode
+needsquotedprintable
+plstrcasecmp
+vccardprop
+vobjectname
+addprop
+prop
+vcquotedprintableprop
+addprop
+vcquotedprintableprop
+setvobjectustringzvalue
+prop
+fakeunicode
+prop
+vobject
+addpropsizedvalue
+vobject
+size
+vobject
+prop
+prop
+addprop
+setvaluewithsize
+prop
+size
+prop
+vobject
+addpropsizedvalue
+vobject
+size
+addpropsizedvalue
+dupstr
+size
+size
+indent
+nsoutputfilestream
+fp
+level
+level
+fp
+write
+printvalue
+nsoutputfilestream
+fp
+vobject
+level
+buf
+nsnull
+valuetype
+vcvtustringz
+fakecstring
+ustringzvalueof
+fp
+write
+fp
+write
+indent
+fp
+level
+fp
+write
+deletestring
+vcvtstringz
+str
+stringzvalueof
+fp
+write
+fp
+write
+str
+indent
+fp
+level
+fp
+write
+vcvtuint
+buf
+prsmprintf
+integervalueof
+buf
+fp
+write
+buf
+strlen
+buf
+prfreeif
+buf
+vcvtulong
+buf
+prsmprintf
+ld
+longvalueof
+buf
+fp
+write
+buf
+strlen
+buf
+prfreeif
+buf
+vcvtraw
+fp
+write
+raw
+data
+vcvtvobject
+fp
+write
+vobject
+printvobject
+fp
+vobjectvalueof
+level
+fp
+write
+none
+fp
+write
+unknown
+printnamevalue
+nsoutputfilestream
+fp
+vobject
+level
+buf
+indent
+fp
+level
+nameof
+buf
+prsmprintf
+nameof
+buf
+fp
+write
+buf
+strlen
+buf
+prfreeif
+buf
+valuetype
+fp
+write
+printvalue
+fp
+level
+fp
+write
+printvobject
+nsoutputfilestream
+fp
+vobject
+level
+vobjectiterator
+fp
+write
+printnamevalue
+fp
+level
+initpropiterator
+moreiteration
+vobject
+eachprop
+nextvobject
+printvobject
+fp
+eachprop
+level
+printvobject
+nsoutputfilestream
+fp
+vobject
+printvobject
+fp
+printvobjecttofile
+nsfilespec
+fname
+vobject
+defined
+mozaddrstandalone
+nsoutputfilestream
+fp
+nsoutputfilestream
+fname
+prwronly
+prcreatefile
+fp
+printvobject
+fp
+fp
+close
+nsassertion
+prfalse
+rhp
+netscape
+jan
+endif
+printvobjectstofile
+nsfilespec
+fname
+vobject
+list
+defined
+mozaddrstandalone
+nsoutputfilestream
+fp
+nsoutputfilestream
+fname
+prwronly
+prcreatefile
+fp
+list
+printvobject
+fp
+list
+list
+nextvobjectinlist
+list
+fp
+close
+nsassertion
+prfalse
+rhp
+netscape
+jan
+endif
+cleanvobject
+vobject
+prop
+vobject
+prop
+next
+prop
+next
+vobject
+next
+cleanvobject
+valuetype
+vcvtustringz
+vcvtstringz
+vcvtraw
+stringzvalueof
+prfree
+stringzvalueof
+vcvtvobject
+cleanvobject
+vobjectvalueof
+deletevobject
+cleanvobjects
+vobject
+list
+list
+vobject
+list
+list
+nextvobjectinlist
+list
+cleanvobject
+define
+strtblsize
+stritem
+strtbl
+strtblsize
+hashstr
+strtblsize
+unusestr
+stritem
+hashstr
+strtbl
+plstrcasecmp
+refcnt
+refcnt
+strtbl
+strtbl
+next
+next
+next
+deletestring
+deletestritem
+next
+predefprop
+name
+alias
+fields
+flags
+define
+pdbegin
+define
+pdinternal
+adrfields
+vcpostalboxprop
+vcextaddressprop
+vcstreetaddressprop
+vccityprop
+vcregionprop
+vcpostalcodeprop
+vccountrynameprop
+namefields
+vcfamilynameprop
+vcgivennameprop
+vcadditionalnamesprop
+vcnameprefixesprop
+vcnamesuffixesprop
+orgfields
+vcorgnameprop
+vcorgunitprop
+vcorgunitprop
+vcorgunitprop
+vcorgunitprop
+aalarmfields
+vcruntimeprop
+vcsnoozetimeprop
+vcrepeatcountprop
+vcaudiocontentprop
+cooltalkfields
+vccooltalkaddress
+vcuseserver
+dalarmfields
+vcruntimeprop
+vcsnoozetimeprop
+vcrepeatcountprop
+vcdisplaystringprop
+malarmfields
+vcruntimeprop
+vcsnoozetimeprop
+vcrepeatcountprop
+vcemailaddressprop
+vcnoteprop
+palarmfields
+vcruntimeprop
+vcsnoozetimeprop
+vcrepeatcountprop
+vcprocedurenameprop
+predefprop
+propnames
+vcbitprop
+vcbitprop
+vcaalarmprop
+aalarmfields
+vcadditionalnamesprop
+vcadrprop
+adrfields
+vcagentprop
+vcaiffprop
+vcaolprop
+vcapplelinkprop
+vcattachprop
+vcattendeeprop
+vcattmailprop
+vcaudiocontentprop
+vcaviprop
+vcbaseprop
+vcbbsprop
+vcbirthdateprop
+vcbmpprop
+vcbodyprop
+vcbusinessroleprop
+vccalprop
+pdbegin
+vccaptionprop
+vccardprop
+pdbegin
+vccarprop
+vccategoriesprop
+vccellularprop
+vccgmprop
+vccharsetprop
+vccidprop
+vccontentidprop
+vccisprop
+vccityprop
+vcclassprop
+vccommentprop
+vccompletedprop
+vccontentidprop
+vccountrynameprop
+vcdalarmprop
+dalarmfields
+vcdatasizeprop
+pdinternal
+vcdaylightprop
+vcdcreatedprop
+vcdeliverylabelprop
+vcdescriptionprop
+vcdibprop
+vcdisplaystringprop
+vcdomesticprop
+vcdtendprop
+vcdtstartprop
+vcdueprop
+vcemailaddressprop
+vcencodingprop
+vcendprop
+vceventprop
+pdbegin
+vceworldprop
+vcexnumprop
+vcexpdateprop
+vcexpectprop
+vcextaddressprop
+vcfamilynameprop
+vcfaxprop
+vcfullnameprop
+vcgeolocationprop
+vcgeoprop
+vcgifprop
+vcgivennameprop
+vcgroupingprop
+vchomeprop
+vcibmmailprop
+vcinlineprop
+vcinternationalprop
+vcinternetprop
+vcisdnprop
+vcjpegprop
+vclanguageprop
+vclastmodifiedprop
+vclastrevisedprop
+vclocationprop
+vclogoprop
+vcmailerprop
+vcmalarmprop
+malarmfields
+vcmcimailprop
+vcmessageprop
+vcmetprop
+vcmodemprop
+vcmpegprop
+vcmpegprop
+vcmsnprop
+vcnameprefixesprop
+vcnameprop
+namefields
+vcnamesuffixesprop
+vcnoteprop
+vcorgnameprop
+vcorgprop
+orgfields
+vcorgunitprop
+vcorgunitprop
+vcorgunitprop
+vcorgunitprop
+vcpagerprop
+vcpalarmprop
+palarmfields
+vcparcelprop
+vcpartprop
+vcpcmprop
+vcpdfprop
+vcpgpprop
+vcphotoprop
+vcpictprop
+vcpmbprop
+vcpostalboxprop
+vcpostalcodeprop
+vcpostalprop
+vcpowershareprop
+vcpreferredprop
+vcpriorityprop
+vcprocedurenameprop
+vcprodidprop
+vcprodigyprop
+vcpronunciationprop
+vcpsprop
+vcpublickeyprop
+vcqpprop
+vcquotedprintableprop
+vcquicktimeprop
+vcquotedprintableprop
+vcrdateprop
+vcregionprop
+vcrelatedtoprop
+vcrepeatcountprop
+vcresourcesprop
+vcrnumprop
+vcroleprop
+vcrruleprop
+vcrsvpprop
+vcruntimeprop
+vcsequenceprop
+vcsnoozetimeprop
+vcstartprop
+vcstatusprop
+vcstreetaddressprop
+vcsubtypeprop
+vcsummaryprop
+vctelephoneprop
+vctiffprop
+vctimezoneprop
+vctitleprop
+vctlxprop
+vctodoprop
+pdbegin
+vctranspprop
+vcuniquestringprop
+vcurlprop
+vcurlvalueprop
+vcvalueprop
+vcversionprop
+vcvideoprop
+vcvoiceprop
+vcwaveprop
+vcwmfprop
+vcworkprop
+vcxprop
+vcxprop
+vcxruleprop
+vccooltalk
+cooltalkfields
+vccooltalkaddress
+vcuseserver
+vcusehtml
+predefprop
+lookuppropinfo
+str
+propnames
+name
+plstrcasecmp
+str
+propnames
+name
+propnames
+lookupprop
+str
+propnames
+name
+plstrcasecmp
+str
+propnames
+name
+propnames
+alias
+propnames
+alias
+propnames
+name
+lookupstr
+lookupstr
+str
+lookupprop
+str
+propnames
+name
+plstrcasecmp
+str
+propnames
+name
+fieldedprop
+propnames
+fields
+propnames
+alias
+propnames
+alias
+propnames
+name
+lookupstr
+fieldedprop
+lookupstr
+str
+define
+ofilereallocsize
+appendcofile
+ofile
+fp
+fp
+fail
+fp
+fp
+fp
+fp
+write
+stuff
+fp
+len
+fp
+limit
+fp
+fp
+len
+fp
+len
+fp
+alloc
+fp
+limit
+fp
+limit
+ofilereallocsize
+fp
+prrealloc
+fp
+fp
+limit
+fp
+stuff
+fp
+alloc
+prfreeif
+fp
+fp
+fp
+fail
+appendcofile
+ofile
+fp
+appendcofile
+fp
+xd
+appendcofile
+fp
+xa
+appendcofile
+fp
+appendsofile
+ofile
+fp
+slen
+slen
+plstrlen
+slen
+appendcofile
+fp
+initofile
+ofile
+fp
+nsoutputfilestream
+ofp
+fp
+fp
+ofp
+fp
+fp
+len
+fp
+limit
+fp
+alloc
+fp
+fail
+initmemofile
+ofile
+fp
+len
+fp
+fp
+fp
+fp
+len
+fp
+limit
+len
+fp
+alloc
+fp
+fail
+writebase
+ofile
+fp
+len
+cur
+numquads
+trip
+quad
+define
+prmaxquads
+quad
+cur
+len
+trip
+cur
+len
+cur
+cur
+trip
+trip
+trip
+xf
+trip
+trip
+cur
+len
+quad
+quad
+quad
+quad
+quad
+quad
+appendsofile
+fp
+numquads
+appendsofile
+fp
+quad
+appendsofile
+fp
+cur
+len
+numquads
+prmaxquads
+numquads
+numquads
+prmaxquads
+appendcofile
+fp
+writeqpstring
+ofile
+fp
+currentcolumn
+hexdigits
+abcdef
+prbool
+white
+prfalse
+prbool
+contwhite
+prfalse
+prbool
+mbp
+prfalse
+needsquotedprintable
+nscrt
+cr
+nscrt
+lf
+white
+appendcofile
+fp
+appendcofile
+fp
+appendcofile
+fp
+appendsofile
+fp
+appendsofile
+fp
+appendcofile
+fp
+appendcofile
+fp
+appendcofile
+fp
+appendsofile
+fp
+appendsofile
+fp
+appendcofile
+fp
+appendcofile
+fp
+appendcofile
+fp
+contwhite
+prfalse
+nscrt
+cr
+nscrt
+lf
+white
+prfalse
+currentcolumn
+mbp
+xb
+appendcofile
+fp
+currentcolumn
+white
+prfalse
+contwhite
+prfalse
+contwhite
+appendcofile
+fp
+appendcofile
+fp
+hexdigits
+appendcofile
+fp
+hexdigits
+xf
+currentcolumn
+contwhite
+prfalse
+appendcofile
+fp
+currentcolumn
+white
+prtrue
+appendcofile
+fp
+appendcofile
+fp
+hexdigits
+appendcofile
+fp
+hexdigits
+xf
+currentcolumn
+white
+prfalse
+contwhite
+prfalse
+nsassertion
+currentcolumn
+rhp
+netscape
+jan
+currentcolumn
+currentcolumn
+appendcofile
+fp
+appendcofile
+fp
+appendcofile
+fp
+currentcolumn
+white
+contwhite
+prtrue
+contwhite
+prfalse
+white
+prfalse
+appendcofile
+fp
+writevalue
+ofile
+fp
+vobject
+size
+valuetype
+vcvtustringz
+fakecstring
+ustringzvalueof
+writeqpstring
+fp
+deletestring
+vcvtstringz
+writeqpstring
+fp
+stringzvalueof
+vcvtuint
+buf
+sprintf
+buf
+integervalueof
+appendsofile
+fp
+buf
+vcvtulong
+buf
+sprintf
+buf
+lu
+longvalueof
+appendsofile
+fp
+buf
+vcvtraw
+appendcofile
+fp
+writebase
+fp
+anyvalueof
+size
+vcvtvobject
+appendcofile
+fp
+writevobject
+fp
+vobjectvalueof
+writeattrvalue
+ofile
+fp
+vobject
+length
+ilen
+nameof
+predefprop
+pi
+pi
+lookuppropinfo
+nameof
+pi
+pi
+flags
+pdinternal
+appendcofile
+fp
+length
+length
+appendsofile
+fp
+nameof
+length
+length
+plstrlen
+nameof
+appendcofile
+fp
+length
+valuetype
+appendcofile
+fp
+length
+length
+ilen
+ilen
+maxmozpropnamesize
+length
+ilen
+appendcofile
+fp
+writevalue
+fp
+writegroup
+ofile
+fp
+vobject
+buf
+buf
+plstrcpy
+buf
+nameof
+isapropertyof
+vcgroupingprop
+plstrcpy
+buf
+stringzvalueof
+plstrcat
+buf
+plstrcat
+buf
+buf
+plstrcpy
+buf
+buf
+appendsofile
+fp
+buf
+inlist
+list
+list
+list
+plstrcasecmp
+list
+list
+writeprop
+ofile
+fp
+vobject
+length
+nameof
+predefprop
+pi
+vobjectiterator
+fields
+pi
+lookuppropinfo
+nameof
+pi
+pi
+flags
+pdbegin
+writevobject
+fp
+isapropertyof
+vcgroupingprop
+writegroup
+fp
+appendsofile
+fp
+nameof
+pi
+fields
+pi
+fields
+initpropiterator
+moreiteration
+vobject
+eachprop
+nextvobject
+nameof
+eachprop
+plstrcasecmp
+vcgroupingprop
+inlist
+fields
+writeattrvalue
+fp
+eachprop
+length
+fields
+fields
+fields
+appendcofile
+fp
+fields
+vobject
+tt
+isapropertyof
+fields
+tt
+fields
+fields
+fields
+writevalue
+fp
+isapropertyof
+fields
+fields
+appendcofile
+fp
+valuetype
+size
+vobject
+isapropertyof
+vcdatasizeprop
+size
+longvalueof
+appendcofile
+fp
+writevalue
+fp
+size
+appendcofile
+fp
+writevobject
+ofile
+fp
+vobject
+nameof
+predefprop
+pi
+pi
+lookuppropinfo
+nameof
+pi
+pi
+flags
+pdbegin
+vobjectiterator
+begin
+nameof
+appendsofile
+fp
+begin
+appendsofile
+fp
+begin
+appendcofile
+fp
+initpropiterator
+moreiteration
+vobject
+eachprop
+nextvobject
+writeprop
+fp
+eachprop
+appendsofile
+fp
+end
+appendsofile
+fp
+begin
+appendsofile
+fp
+writevobject
+nsoutputfilestream
+fp
+vobject
+ofile
+ofp
+initofile
+ofp
+fp
+writevobject
+ofp
+writevobjecttofile
+nsfilespec
+fname
+vobject
+defined
+mozaddrstandalone
+nsoutputfilestream
+fp
+nsoutputfilestream
+fname
+prwronly
+prcreatefile
+fp
+writevobject
+fp
+fp
+close
+nsassertion
+prfalse
+rhp
+netscape
+jan
+endif
+writevobjectstofile
+nsfilespec
+fname
+vobject
+list
+defined
+mozaddrstandalone
+nsoutputfilestream
+fp
+nsoutputfilestream
+fname
+prwronly
+prcreatefile
+fp
+list
+writevobject
+fp
+list
+list
+nextvobjectinlist
+list
+fp
+close
+nsassertion
+prfalse
+rhp
+netscape
+jan
+endif
+writememvobject
+len
+vobject
+ofile
+ofp
+initmemofile
+ofp
+len
+len
+writevobject
+ofp
+len
+len
+ofp
+len
+appendcofile
+ofp
+ofp
+writememoryvobjects
+len
+vobject
+list
+prbool
+expandspaces
+ofile
+ofp
+initmemofile
+ofp
+len
+len
+list
+writevobject
+ofp
+list
+list
+nextvobjectinlist
+list
+len
+len
+ofp
+len
+appendcofile
+ofp
+ofp
+vwchart
+fakeunicode
+ps
+bytes
+vwchart
+pw
+len
+strlen
+ps
+pw
+vwchart
+prcalloc
+vwchart
+len
+bytes
+bytes
+len
+vwchart
+ps
+ps
+pw
+vwchart
+ps
+pw
+vwchart
+pw
+vwchart
+ps
+ps
+pw
+pw
+vwchart
+ustrlen
+vwchart
+vwchart
+fakecstring
+vwchart
+len
+ustrlen
+prcalloc
+len
+vwchart
+vwchart
+lookupstr
+stritem
+hashstr
+strtbl
+plstrcasecmp
+refcnt
+next
+dupstr
+strtbl
+newstritem
+strtbl
\ No newline at end of file
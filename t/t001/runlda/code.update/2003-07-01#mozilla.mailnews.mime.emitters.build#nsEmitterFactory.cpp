@@ -0,0 +1,105 @@
+nsifactory
+nsisupports
+msgcore
+nscomptr
+pratom
+nsigenericfactory
+nsimodule
+nsicategorymanager
+nsmimeemittercid
+nsimimeemitter
+nsmimehtmlemitter
+nsmimerawemitter
+nsmimexmlemitter
+nsmimeplainemitter
+nsgenericfactoryconstructor
+nsmimerawemitter
+nsgenericfactoryconstructor
+nsmimexmlemitter
+nsgenericfactoryconstructor
+nsmimeplainemitter
+nsgenericfactoryconstructorinit
+nsmimehtmldisplayemitter
+init
+nsmethod
+registermimeemitter
+nsicomponentmanager
+acompmgr
+nsifile
+apath
+registrylocation
+componenttype
+nsmodulecomponentinfo
+info
+nsresult
+rv
+nscomptr
+nsicategorymanager
+catman
+dogetservice
+nscategorymanagercontractid
+rv
+nsfailed
+rv
+rv
+nsxpidlcstring
+previous
+catman
+addcategoryentry
+mime
+emitter
+info
+mcontractid
+info
+mcontractid
+prtrue
+prtrue
+gettercopies
+previous
+nsmethod
+unregistermimeemitter
+nsicomponentmanager
+acompmgr
+nsifile
+apath
+registrylocation
+nsmodulecomponentinfo
+info
+nsok
+nsmodulecomponentinfo
+components
+html
+mime
+emitter
+nshtmlmimeemittercid
+nshtmlmimeemittercontractid
+nsmimehtmldisplayemitterconstructor
+registermimeemitter
+unregistermimeemitter
+xml
+mime
+emitter
+nsxmlmimeemittercid
+nsxmlmimeemittercontractid
+nsmimexmlemitterconstructor
+registermimeemitter
+unregistermimeemitter
+plain
+mime
+emitter
+nsplainmimeemittercid
+nsplainmimeemittercontractid
+nsmimeplainemitterconstructor
+registermimeemitter
+unregistermimeemitter
+raw
+mime
+emitter
+nsrawmimeemittercid
+nsrawmimeemittercontractid
+nsmimerawemitterconstructor
+registermimeemitter
+unregistermimeemitter
+nsimplnsgetmodule
+nsmimeemittermodule
+components
\ No newline at end of file
@@ -0,0 +1,1191 @@
+nscomptr
+nsxpidlstring
+nsreadableutils
+stdio
+nsmimebaseemitter
+nsmailheaders
+nscore
+nsipref
+nsiservicemanager
+nsescape
+prmem
+nsemitterutils
+nsfilestream
+nsmimestringresources
+msgcore
+nsimsgheaderparser
+nsicomponentmanager
+nsemitterutils
+nsfilespec
+nsiregistry
+nsimimestreamconverter
+nsimimeconverter
+nsmsgmimecid
+prlog
+prprf
+nsimimeheaders
+nsimsgwindow
+nsimsgmailnewsurl
+prlogmoduleinfo
+gmimeemitterlogmodule
+nsnull
+define
+mimeheaderurl
+messenger
+locale
+mimeheader
+properties
+define
+mimeurl
+messenger
+locale
+mime
+properties
+nsdefinecid
+kprefcid
+nsprefcid
+nsimplthreadsafeaddref
+nsmimebaseemitter
+nsimplthreadsaferelease
+nsmimebaseemitter
+nsinterfacemapbegin
+nsmimebaseemitter
+nsinterfacemapentryambiguous
+nsisupports
+nsimimeemitter
+nsinterfacemapentry
+nsimimeemitter
+nsinterfacemapentry
+nsiinterfacerequestor
+nsinterfacemapend
+nsmimebaseemitter
+nsmimebaseemitter
+mfirstheaders
+prtrue
+mbuffermgr
+nsnull
+mtotalwritten
+mtotalread
+minputstream
+nsnull
+moutstream
+nsnull
+moutlistener
+nsnull
+mchannel
+nsnull
+mdocheader
+prfalse
+mstringbundle
+nsnull
+murl
+nsnull
+mheaderdisplaytype
+nsmimeheaderdisplaytypes
+normalheaders
+mattachcount
+mattacharray
+nsvoidarray
+mcurrentattachment
+nsnull
+mheaderarray
+nsvoidarray
+membeddedheaderarray
+nsnull
+mbodystarted
+prfalse
+nscomponentmanager
+createinstance
+nsmimeconvertercontractid
+nsnull
+nsgetiid
+nsimimeconverter
+getteraddrefs
+municodeconverter
+nsresult
+rv
+nsservicemanager
+getservice
+kprefcid
+nsgetiid
+nsipref
+nsisupports
+mprefs
+mprefs
+nssucceeded
+rv
+mprefs
+nssucceeded
+rv
+mprefs
+getintpref
+mail
+showheaders
+mheaderdisplaytype
+gmimeemitterlogmodule
+gmimeemitterlogmodule
+prnewlogmodule
+mime
+nsmimebaseemitter
+nsmimebaseemitter
+print
+mbuffermgr
+mbuffermgr
+mbuffermgr
+nsnull
+mprefs
+nsservicemanager
+releaseservice
+kprefcid
+mprefs
+mattacharray
+mattacharray
+count
+attachmentinfotype
+attachinfo
+attachmentinfotype
+mattacharray
+elementat
+attachinfo
+prfreeif
+attachinfo
+contenttype
+prfreeif
+attachinfo
+displayname
+prfreeif
+attachinfo
+urlspec
+prfreeif
+attachinfo
+mattacharray
+cleanupheaderarray
+mheaderarray
+mheaderarray
+nsnull
+cleanupheaderarray
+membeddedheaderarray
+membeddedheaderarray
+nsnull
+nsimethodimp
+nsmimebaseemitter
+getinterface
+nsiid
+aiid
+ainstanceptr
+nsensureargpointer
+ainstanceptr
+queryinterface
+aiid
+ainstanceptr
+nsmimebaseemitter
+cleanupheaderarray
+nsvoidarray
+aarray
+aarray
+print
+aarray
+count
+headerinfotype
+headerinfo
+headerinfotype
+aarray
+elementat
+headerinfo
+prfreeif
+headerinfo
+name
+prfreeif
+headerinfo
+value
+prfreeif
+headerinfo
+aarray
+print
+mapheadernametoid
+header
+strcmp
+header
+date
+mimemhtmldate
+strcmp
+header
+from
+mimemhtmlfrom
+strcmp
+header
+subject
+mimemhtmlsubject
+strcmp
+header
+to
+mimemhtmlto
+strcmp
+header
+sender
+mimemhtmlsender
+strcmp
+header
+resent
+to
+mimemhtmlresentto
+strcmp
+header
+resent
+sender
+mimemhtmlresentsender
+strcmp
+header
+resent
+from
+mimemhtmlresentfrom
+strcmp
+header
+resent
+cc
+mimemhtmlresentcc
+strcmp
+header
+reply
+to
+mimemhtmlreplyto
+strcmp
+header
+references
+mimemhtmlreferences
+strcmp
+header
+newsgroups
+mimemhtmlnewsgroups
+strcmp
+header
+message
+id
+mimemhtmlmessageid
+strcmp
+header
+followup
+to
+mimemhtmlfollowupto
+strcmp
+header
+cc
+mimemhtmlcc
+strcmp
+header
+organization
+mimemhtmlorganization
+strcmp
+header
+bcc
+mimemhtmlbcc
+nsmimebaseemitter
+mimegetstringbyname
+aheadername
+nsresult
+res
+nsok
+mheaderstringbundle
+propertyurl
+mimeheaderurl
+nscomptr
+nsistringbundleservice
+sbundleservice
+dogetservice
+nsstringbundlecontractid
+res
+nssucceeded
+res
+nsnull
+sbundleservice
+res
+sbundleservice
+createbundle
+propertyurl
+getteraddrefs
+mheaderstringbundle
+mheaderstringbundle
+nsxpidlstring
+val
+res
+mheaderstringbundle
+getstringfromname
+nsconvertasciitoucs
+aheadername
+get
+gettercopies
+val
+nsfailed
+res
+nsnull
+tonewutfstring
+val
+nsnull
+nsmimebaseemitter
+mimegetstringbyid
+print
+aid
+nsresult
+res
+nsok
+mstringbundle
+propertyurl
+mimeurl
+nscomptr
+nsistringbundleservice
+sbundleservice
+dogetservice
+nsstringbundlecontractid
+res
+nssucceeded
+res
+res
+sbundleservice
+createbundle
+propertyurl
+getteraddrefs
+mstringbundle
+mstringbundle
+nsxpidlstring
+val
+res
+mstringbundle
+getstringfromid
+aid
+gettercopies
+val
+nsfailed
+res
+nsnull
+tonewutfstring
+val
+nsnull
+nsmimebaseemitter
+localizeheadername
+aheadername
+adefaultname
+retval
+nsnull
+mformat
+nsmimeoutput
+nsmimemessagequoting
+mformat
+nsmimeoutput
+nsmimemessagebodyquoting
+print
+id
+mapheadernametoid
+aheadername
+id
+retval
+mimegetstringbyid
+id
+retval
+retval
+mimegetstringbyname
+aheadername
+retval
+retval
+nscrt
+strdup
+adefaultname
+nsimethodimp
+nsmimebaseemitter
+setpipe
+nsiinputstream
+ainputstream
+nsioutputstream
+outstream
+minputstream
+ainputstream
+moutstream
+outstream
+nsok
+nsimethodimp
+nsmimebaseemitter
+initialize
+nsiuri
+url
+nsichannel
+achannel
+print
+aformat
+murl
+url
+mchannel
+achannel
+mbuffermgr
+mbuffermgr
+mbuffermgr
+mimerebuffer
+mtotalwritten
+mtotalread
+mformat
+aformat
+nsok
+nsimethodimp
+nsmimebaseemitter
+setoutputlistener
+nsistreamlistener
+listener
+moutlistener
+listener
+nsok
+nsimethodimp
+nsmimebaseemitter
+getoutputlistener
+nsistreamlistener
+listener
+listener
+listener
+moutlistener
+nsifaddref
+listener
+nsok
+nsresult
+nsmimebaseemitter
+startattachment
+name
+contenttype
+url
+prbool
+anotdownloaded
+mcurrentattachment
+attachmentinfotype
+prnewzap
+attachmentinfotype
+mcurrentattachment
+mattacharray
+mattachcount
+mcurrentattachment
+displayname
+nscrt
+strdup
+name
+mcurrentattachment
+urlspec
+nscrt
+strdup
+url
+mcurrentattachment
+contenttype
+nscrt
+strdup
+contenttype
+mcurrentattachment
+notdownloaded
+anotdownloaded
+nsok
+nsresult
+nsmimebaseemitter
+endattachment
+mcurrentattachment
+mattacharray
+mattacharray
+appendelement
+mcurrentattachment
+mcurrentattachment
+nsnull
+nsok
+nsresult
+nsmimebaseemitter
+endallattachments
+nsok
+nsimethodimp
+nsmimebaseemitter
+addattachmentfield
+field
+value
+nsok
+nsimethodimp
+nsmimebaseemitter
+utilitywrite
+buf
+print
+tmplen
+strlen
+buf
+pruint
+written
+write
+buf
+tmplen
+written
+nsok
+nsimethodimp
+nsmimebaseemitter
+utilitywritecrlf
+buf
+print
+tmplen
+strlen
+buf
+pruint
+written
+write
+buf
+tmplen
+written
+write
+crlf
+written
+nsok
+nsimethodimp
+nsmimebaseemitter
+write
+buf
+pruint
+size
+pruint
+amountwritten
+written
+nsresult
+rv
+nsok
+pruint
+needtowrite
+ifdef
+debugbenb
+printf
+buf
+endif
+prlog
+gmimeemitterlogmodule
+prlogalways
+buf
+amountwritten
+needtowrite
+mbuffermgr
+getsize
+needtowrite
+rv
+writehelper
+mbuffermgr
+getbuffer
+needtowrite
+written
+mtotalwritten
+written
+mbuffermgr
+reducebuffer
+written
+amountwritten
+written
+mbuffermgr
+getsize
+mbuffermgr
+increasebuffer
+buf
+size
+rv
+rv
+writehelper
+buf
+size
+written
+amountwritten
+written
+mtotalwritten
+written
+written
+size
+mbuffermgr
+increasebuffer
+buf
+written
+size
+written
+rv
+nsresult
+nsmimebaseemitter
+writehelper
+buf
+pruint
+count
+pruint
+countwritten
+nsresult
+rv
+rv
+moutstream
+write
+buf
+count
+countwritten
+rv
+nsbasestreamwouldblock
+pruint
+avail
+rv
+minputstream
+available
+avail
+nssucceeded
+rv
+avail
+moutlistener
+ondataavailable
+mchannel
+murl
+minputstream
+avail
+rv
+moutstream
+write
+buf
+count
+countwritten
+rv
+nsmimebaseemitter
+getheadervalue
+aheadername
+nsvoidarray
+aarray
+print
+retval
+nsnull
+aarray
+nsnull
+aarray
+count
+headerinfotype
+headerinfo
+headerinfotype
+aarray
+elementat
+headerinfo
+headerinfo
+name
+headerinfo
+name
+nscrt
+strcasecmp
+aheadername
+headerinfo
+name
+retval
+headerinfo
+value
+retval
+nsimethodimp
+nsmimebaseemitter
+startheader
+prbool
+rootmailheader
+prbool
+headeronly
+msgid
+outcharset
+mdocheader
+rootmailheader
+mdocheader
+membeddedheaderarray
+cleanupheaderarray
+membeddedheaderarray
+membeddedheaderarray
+nsvoidarray
+membeddedheaderarray
+nserroroutofmemory
+mdocheader
+updatecharacterset
+outcharset
+mcharset
+assignwithconversion
+outcharset
+nsok
+nsimethodimp
+nsmimebaseemitter
+updatecharacterset
+acharset
+acharset
+plstrcasecmp
+acharset
+us
+ascii
+plstrcasecmp
+acharset
+iso
+plstrcasecmp
+acharset
+utf
+nscautostring
+contenttype
+nssucceeded
+mchannel
+getcontenttype
+contenttype
+contenttype
+isempty
+cptr
+plstrcasestr
+contenttype
+get
+charset
+cptr
+ptr
+contenttype
+get
+ptr
+ptr
+ptr
+ptr
+cptr
+ptr
+ptr
+mchannel
+setcontenttype
+nsdependentcstring
+contenttype
+get
+mchannel
+setcontentcharset
+nsdependentcstring
+acharset
+nsok
+nsimethodimp
+nsmimebaseemitter
+addheaderfield
+field
+value
+field
+value
+nsok
+nsvoidarray
+tptr
+mdocheader
+tptr
+mheaderarray
+tptr
+membeddedheaderarray
+headerinfotype
+ptr
+headerinfotype
+prnewzap
+headerinfotype
+ptr
+tptr
+ptr
+name
+nscrt
+strdup
+field
+ptr
+value
+nscrt
+strdup
+value
+tptr
+appendelement
+ptr
+nsok
+nsimethodimp
+nsmimebaseemitter
+addallheaders
+allheaders
+print
+allheadersize
+mdocheader
+nsresult
+rv
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+murl
+msgurl
+nscomptr
+nsimimeheaders
+mimeheaders
+docreateinstance
+nsimimeheaderscontractid
+rv
+nsensuresuccess
+rv
+rv
+mimeheaders
+initialize
+allheaders
+allheadersize
+msgurl
+setmimeheaders
+mimeheaders
+nsok
+nsresult
+nsmimebaseemitter
+writeheaderfieldhtml
+field
+value
+newvalue
+nsnull
+field
+value
+nsok
+emitthisheaderforprefsetting
+mheaderdisplaytype
+field
+nsok
+municodeconverter
+mformat
+nsmimeoutput
+nsmimemessagesaveas
+nsxpidlcstring
+tvalue
+nsresult
+rv
+municodeconverter
+decodemimeheader
+value
+gettercopies
+tvalue
+nssucceeded
+rv
+tvalue
+newvalue
+nsescapehtml
+tvalue
+newvalue
+nsescapehtml
+value
+newvalue
+nscrt
+strdup
+value
+newvalue
+nsok
+mhtmlheaders
+append
+tr
+mhtmlheaders
+append
+td
+mformat
+nsmimeoutput
+nsmimemessagesaveas
+mhtmlheaders
+append
+mhtmlheaders
+append
+div
+headerdisplayname
+style
+display
+nscautostring
+newtagname
+field
+newtagname
+compresswhitespace
+prtrue
+prtrue
+touppercase
+newtagname
+lntagname
+localizeheadername
+newtagname
+get
+field
+lntagname
+lntagname
+mhtmlheaders
+append
+field
+mhtmlheaders
+append
+lntagname
+prfreeif
+lntagname
+mhtmlheaders
+append
+mformat
+nsmimeoutput
+nsmimemessagesaveas
+mhtmlheaders
+append
+mhtmlheaders
+append
+div
+mhtmlheaders
+append
+newvalue
+mhtmlheaders
+append
+td
+mhtmlheaders
+append
+tr
+prfreeif
+newvalue
+nsok
+nsresult
+nsmimebaseemitter
+writeheaderfieldhtmlprefix
+mformat
+nsmimeoutput
+nsmimemessagesaveas
+mfirstheaders
+mformat
+nsmimeoutput
+nsmimemessageprintoutput
+mfirstheaders
+mhtmlheaders
+append
+br
+hr
+width
+size
+br
+mfirstheaders
+prfalse
+nsok
+nsresult
+nsmimebaseemitter
+writeheaderfieldhtmlpostfix
+mhtmlheaders
+append
+br
+nsok
+nsimethodimp
+nsmimebaseemitter
+writehtmlheaders
+writeheaderfieldhtmlprefix
+dumpsubjectfromdate
+dumptocc
+dumprestofheaders
+writeheaderfieldhtmlpostfix
+utilitywritecrlf
+mhtmlheaders
+get
+mhtmlheaders
+nsok
+nsresult
+nsmimebaseemitter
+dumpsubjectfromdate
+mhtmlheaders
+append
+table
+border
+cellspacing
+cellpadding
+width
+header
+part
+outputgenericheader
+headersubject
+outputgenericheader
+headerfrom
+outputgenericheader
+headerdate
+mformat
+nsmimeoutput
+nsmimemessagequoting
+mformat
+nsmimeoutput
+nsmimemessagebodyquoting
+outputgenericheader
+headerto
+mhtmlheaders
+append
+table
+nsok
+nsresult
+nsmimebaseemitter
+dumptocc
+tofield
+getheadervalue
+headerto
+mheaderarray
+ccfield
+getheadervalue
+headercc
+mheaderarray
+bccfield
+getheadervalue
+headerbcc
+mheaderarray
+newsgroupfield
+getheadervalue
+headernewsgroups
+mheaderarray
+tofield
+ccfield
+bccfield
+newsgroupfield
+mhtmlheaders
+append
+table
+border
+cellspacing
+cellpadding
+width
+header
+part
+outputgenericheader
+headerto
+outputgenericheader
+headercc
+outputgenericheader
+headerbcc
+outputgenericheader
+headernewsgroups
+mhtmlheaders
+append
+table
+nsok
+nsresult
+nsmimebaseemitter
+dumprestofheaders
+print
+mheaderdisplaytype
+nsmimeheaderdisplaytypes
+allheaders
+nsok
+mhtmlheaders
+append
+table
+border
+cellspacing
+cellpadding
+width
+header
+part
+mheaderarray
+count
+headerinfotype
+headerinfo
+headerinfotype
+mheaderarray
+elementat
+headerinfo
+headerinfo
+name
+headerinfo
+name
+headerinfo
+value
+headerinfo
+value
+nscrt
+strcasecmp
+headersubject
+headerinfo
+name
+nscrt
+strcasecmp
+headerdate
+headerinfo
+name
+nscrt
+strcasecmp
+headerfrom
+headerinfo
+name
+nscrt
+strcasecmp
+headerto
+headerinfo
+name
+nscrt
+strcasecmp
+headercc
+headerinfo
+name
+writeheaderfieldhtml
+headerinfo
+name
+headerinfo
+value
+mhtmlheaders
+append
+table
+nsok
+nsresult
+nsmimebaseemitter
+outputgenericheader
+aheaderval
+val
+nsnull
+nsresult
+rv
+mdocheader
+val
+getheadervalue
+aheaderval
+mheaderarray
+val
+getheadervalue
+aheaderval
+membeddedheaderarray
+val
+rv
+writeheaderfieldhtml
+aheaderval
+val
+rv
+nserrorfailure
+nsimethodimp
+nsmimebaseemitter
+complete
+pruint
+written
+nsresult
+rv
+nsok
+nssucceeded
+rv
+mbuffermgr
+mbuffermgr
+getsize
+rv
+write
+written
+moutlistener
+pruint
+bytesinstream
+nsresult
+rv
+minputstream
+available
+bytesinstream
+nsassertion
+nssucceeded
+rv
+available
+failed
+bytesinstream
+nscomptr
+nsirequest
+request
+doqueryinterface
+mchannel
+rv
+moutlistener
+ondataavailable
+request
+murl
+minputstream
+bytesinstream
+nsok
+nsimethodimp
+nsmimebaseemitter
+endheader
+nsok
+nsimethodimp
+nsmimebaseemitter
+startbody
+prbool
+bodyonly
+msgid
+outcharset
+nsok
+nsimethodimp
+nsmimebaseemitter
+writebody
+buf
+pruint
+size
+pruint
+amountwritten
+nsok
+nsimethodimp
+nsmimebaseemitter
+endbody
+nsok nsresult
\ No newline at end of file
@@ -0,0 +1,615 @@
+nscomptr
+stdio
+nsmimerebuffer
+nsmimehtmlemitter
+plstr
+nsmailheaders
+nscore
+nsemitterutils
+nsescape
+nsimimestreamconverter
+nsimsgwindow
+nsimsgmailnewsurl
+nsxpidlstring
+nsmimetypes
+prtime
+nsreadableutils
+prprf
+nsinntpurl
+nsimimeconverter
+nsmsgmimecid
+nsdatetimeformatcid
+nsdefinecid
+kdatetimeformatcid
+nsdatetimeformatcid
+define
+viewallheaders
+nsmimehtmldisplayemitter
+nsmimehtmldisplayemitter
+nsmimebaseemitter
+nsmimehtmldisplayemitter
+nsmimehtmldisplayemitter
+nsresult
+nsmimehtmldisplayemitter
+init
+nsok
+prbool
+nsmimehtmldisplayemitter
+broadcastheadersandattachments
+nscomptr
+nsimsgheadersink
+headersink
+nsresult
+rv
+getheadersink
+getteraddrefs
+headersink
+nssucceeded
+rv
+headersink
+mdocheader
+prtrue
+prfalse
+nsresult
+nsmimehtmldisplayemitter
+writeheaderfieldhtmlprefix
+broadcastheadersandattachments
+mformat
+nsmimeoutput
+nsmimemessageprintoutput
+nsmimebaseemitter
+writeheaderfieldhtmlprefix
+nsok
+nsresult
+nsmimehtmldisplayemitter
+writeheaderfieldhtml
+field
+value
+broadcastheadersandattachments
+mformat
+nsmimeoutput
+nsmimemessageprintoutput
+nsmimebaseemitter
+writeheaderfieldhtml
+field
+value
+nsok
+nsresult
+nsmimehtmldisplayemitter
+writeheaderfieldhtmlpostfix
+broadcastheadersandattachments
+mformat
+nsmimeoutput
+nsmimemessageprintoutput
+nsmimebaseemitter
+writeheaderfieldhtmlpostfix
+nsok
+nsresult
+nsmimehtmldisplayemitter
+getheadersink
+nsimsgheadersink
+aheadersink
+nsresult
+rv
+nsok
+mchannel
+mheadersink
+nscomptr
+nsiuri
+uri
+mchannel
+geturi
+getteraddrefs
+uri
+uri
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+uri
+msgurl
+nscomptr
+nsimsgwindow
+msgwindow
+msgurl
+getmsgwindow
+getteraddrefs
+msgwindow
+msgwindow
+msgwindow
+getmsgheadersink
+getteraddrefs
+mheadersink
+aheadersink
+mheadersink
+nsifaddref
+aheadersink
+rv
+nsimethodimp
+nsmimehtmldisplayemitter
+writehtmlheaders
+mformat
+nsmimeoutput
+nsmimemessageprintoutput
+nsmimebaseemitter
+writehtmlheaders
+broadcastheadersandattachments
+mdocheader
+mformat
+nsmimeoutput
+nsmimemessagebodydisplay
+mformat
+nsmimeoutput
+nsmimemessageprintoutput
+nsmimebaseemitter
+writehtmlheaders
+mfirstheaders
+prfalse
+prbool
+bfromnewsgroups
+prfalse
+print
+mheaderarray
+count
+headerinfotype
+headerinfo
+headerinfotype
+mheaderarray
+elementat
+headerinfo
+headerinfo
+name
+headerinfo
+name
+nscrt
+strcasecmp
+newsgroups
+headerinfo
+name
+bfromnewsgroups
+prtrue
+nscomptr
+nsimsgheadersink
+headersink
+nsresult
+rv
+getheadersink
+getteraddrefs
+headersink
+print
+viewmode
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+prefs
+rv
+prefs
+getintpref
+mail
+showheaders
+viewmode
+headersink
+headernames
+prmalloc
+mheaderarray
+count
+prunichar
+headervalues
+prunichar
+prmalloc
+prunichar
+mheaderarray
+count
+headernames
+headervalues
+nserrorfailure
+pruint
+numheadersadded
+print
+mheaderarray
+count
+headerinfotype
+headerinfo
+headerinfotype
+mheaderarray
+elementat
+headerinfo
+headerinfo
+name
+headerinfo
+name
+headerinfo
+value
+headerinfo
+value
+headervalue
+headerinfo
+value
+headernames
+numheadersadded
+headerinfo
+name
+nscrt
+strcasecmp
+date
+headerinfo
+name
+prbool
+displayoriginaldate
+prfalse
+prefs
+prefs
+getboolpref
+mailnews
+display
+originaldate
+displayoriginaldate
+displayoriginaldate
+headervalues
+numheadersadded
+tonewunicode
+nsdependentcstring
+headervalue
+generatedatestring
+headervalue
+headervalues
+numheadersadded
+viewmode
+viewallheaders
+nscrt
+strcasecmp
+to
+headerinfo
+name
+nscrt
+strcasecmp
+from
+headerinfo
+name
+nscrt
+strcasecmp
+cc
+headerinfo
+name
+nscrt
+strcasecmp
+newsgroups
+headerinfo
+name
+nscrt
+strcasecmp
+bcc
+headerinfo
+name
+nscrt
+strcasecmp
+followup
+to
+headerinfo
+name
+nscrt
+strcasecmp
+reply
+to
+headerinfo
+name
+nscrt
+strcasecmp
+subject
+headerinfo
+name
+nscrt
+strcasecmp
+organization
+headerinfo
+name
+nscrt
+strcasecmp
+user
+agent
+headerinfo
+name
+headervalues
+numheadersadded
+nscrt
+strdup
+nsconvertutftoucs
+headervalue
+get
+numheadersadded
+headersink
+processheaders
+headernames
+prunichar
+headervalues
+numheadersadded
+bfromnewsgroups
+pruint
+index
+index
+numheadersadded
+index
+nscrt
+free
+headervalues
+index
+prfreeif
+headernames
+prfreeif
+headervalues
+nsok
+nsresult
+nsmimehtmldisplayemitter
+generatedatestring
+datestring
+prunichar
+adatestring
+nsautostring
+formatteddatestring
+nsresult
+rv
+nsok
+mdateformater
+mdateformater
+docreateinstance
+kdatetimeformatcid
+prtime
+messagetime
+prparsetimestring
+datestring
+prfalse
+messagetime
+prtime
+currenttime
+prnow
+prexplodedtime
+explodedcurrenttime
+prexplodetime
+currenttime
+prlocaltimeparameters
+explodedcurrenttime
+prexplodedtime
+explodedmsgtime
+prexplodetime
+messagetime
+prlocaltimeparameters
+explodedmsgtime
+nsdateformatselector
+dateformat
+kdateformatshort
+explodedcurrenttime
+tmyear
+explodedmsgtime
+tmyear
+explodedcurrenttime
+tmmonth
+explodedmsgtime
+tmmonth
+explodedcurrenttime
+tmmday
+explodedmsgtime
+tmmday
+dateformat
+kdateformatnone
+nssucceeded
+rv
+rv
+mdateformater
+formatprtime
+nsnull
+dateformat
+ktimeformatnoseconds
+messagetime
+formatteddatestring
+nssucceeded
+rv
+adatestring
+tonewunicode
+formatteddatestring
+rv
+nsresult
+nsmimehtmldisplayemitter
+endheader
+mdocheader
+utilitywritecrlf
+html
+utilitywritecrlf
+head
+val
+getheadervalue
+headersubject
+mheaderarray
+val
+subject
+nsescapehtml
+val
+subject
+print
+buflen
+strlen
+subject
+buf
+buflen
+prsnprintf
+buf
+buflen
+title
+title
+subject
+utilitywritecrlf
+buf
+buf
+nsmemory
+free
+subject
+utilitywritecrlf
+link
+rel
+important
+stylesheet
+href
+messenger
+skin
+messagebody
+css
+utilitywritecrlf
+head
+utilitywritecrlf
+body
+writehtmlheaders
+nsok
+nsresult
+nsmimehtmldisplayemitter
+startattachment
+name
+contenttype
+url
+prbool
+anotdownloaded
+nsresult
+rv
+nsok
+nscomptr
+nsimsgheadersink
+headersink
+rv
+getheadersink
+getteraddrefs
+headersink
+nsfailed
+rv
+headersink
+nsok
+escapedurl
+nsescape
+url
+urlpath
+nsxpidlcstring
+uristring
+nscomptr
+nsimsgmessageurl
+msgurl
+doqueryinterface
+murl
+rv
+nssucceeded
+rv
+nscomptr
+nsinntpurl
+nntpurl
+doqueryinterface
+murl
+rv
+nssucceeded
+rv
+nntpurl
+rv
+msgurl
+getoriginalspec
+gettercopies
+uristring
+rv
+msgurl
+geturi
+gettercopies
+uristring
+nsxpidlstring
+unicodeheadervalue
+rv
+nserrorfailure
+municodeconverter
+rv
+municodeconverter
+decodemimeheader
+name
+gettercopies
+unicodeheadervalue
+nsfailed
+rv
+unicodeheadervalue
+assign
+nsconvertutftoucs
+name
+municodeconverter
+rv
+nsok
+headersink
+handleattachment
+contenttype
+url
+unicodeheadervalue
+uristring
+anotdownloaded
+nscrt
+free
+escapedurl
+rv
+nsresult
+nsmimehtmldisplayemitter
+addattachmentfield
+field
+value
+nsok
+nsresult
+nsmimehtmldisplayemitter
+endattachment
+nsok
+nsresult
+nsmimehtmldisplayemitter
+endallattachments
+nsresult
+rv
+nsok
+nscomptr
+nsimsgheadersink
+headersink
+rv
+getheadersink
+getteraddrefs
+headersink
+headersink
+headersink
+onendallattachments
+rv
+nsresult
+nsmimehtmldisplayemitter
+writebody
+buf
+pruint
+size
+pruint
+amountwritten
+write
+buf
+size
+amountwritten
+nsok
+nsresult
+nsmimehtmldisplayemitter
+endbody
+utilitywritecrlf
+body
+utilitywritecrlf
+html
+nscomptr
+nsimsgheadersink
+headersink
+nsresult
+rv
+getheadersink
+getteraddrefs
+headersink
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+murl
+rv
+headersink
+headersink
+onendmsgdownload
+mailnewsurl
+nsok
\ No newline at end of file
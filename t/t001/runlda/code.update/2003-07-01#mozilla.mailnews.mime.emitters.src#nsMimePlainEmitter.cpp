@@ -0,0 +1,60 @@
+stdio
+nsmimerebuffer
+nsmimeplainemitter
+plstr
+nsmailheaders
+nscore
+nsescape
+prmem
+nsemitterutils
+nscomptr
+nsreadableutils
+nsunicharutils
+nsmimeplainemitter
+nsmimeplainemitter
+nsmimeplainemitter
+nsmimeplainemitter
+nsresult
+nsmimeplainemitter
+startheader
+prbool
+rootmailheader
+prbool
+headeronly
+msgid
+outcharset
+mdocheader
+rootmailheader
+nsok
+nsresult
+nsmimeplainemitter
+addheaderfield
+field
+value
+field
+value
+nsok
+utilitywrite
+field
+utilitywrite
+utilitywritecrlf
+value
+nsok
+nsresult
+nsmimeplainemitter
+endheader
+utilitywritecrlf
+nsok
+nsimethodimp
+nsmimeplainemitter
+writebody
+buf
+pruint
+size
+pruint
+amountwritten
+write
+buf
+size
+amountwritten
+nsok
\ No newline at end of file
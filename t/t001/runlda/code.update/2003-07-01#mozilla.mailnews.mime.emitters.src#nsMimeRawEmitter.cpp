@@ -0,0 +1,28 @@
+nscomptr
+stdio
+nsmimerebuffer
+nsmimerawemitter
+plstr
+nsimimeemitter
+nsmailheaders
+nscore
+nsescape
+prmem
+nsemitterutils
+nsmimerawemitter
+nsmimerawemitter
+nsmimerawemitter
+nsmimerawemitter
+nsimethodimp
+nsmimerawemitter
+writebody
+buf
+pruint
+size
+pruint
+amountwritten
+write
+buf
+size
+amountwritten
+nsok
\ No newline at end of file
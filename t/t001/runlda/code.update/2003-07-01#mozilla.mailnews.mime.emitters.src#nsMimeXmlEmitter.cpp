@@ -0,0 +1,202 @@
+stdio
+nsmimerebuffer
+nsmimexmlemitter
+plstr
+nsmailheaders
+nscore
+nsescape
+prmem
+nsemitterutils
+nscomptr
+nsreadableutils
+nsunicharutils
+nsmimexmlemitter
+nsmimexmlemitter
+nsmimexmlemitter
+nsmimexmlemitter
+nsresult
+nsmimexmlemitter
+complete
+buf
+utilitywrite
+mailattachcount
+sprintf
+buf
+mattachcount
+utilitywrite
+buf
+utilitywrite
+mailattachcount
+utilitywrite
+message
+nsmimebaseemitter
+complete
+nsresult
+nsmimexmlemitter
+writexmlheader
+msgid
+msgid
+msgid
+msgid
+none
+newvalue
+nsescapehtml
+msgid
+newvalue
+nserroroutofmemory
+utilitywrite
+xml
+version
+utilitywritecrlf
+xml
+stylesheet
+href
+messenger
+skin
+messagebody
+css
+type
+text
+css
+utilitywrite
+message
+id
+utilitywrite
+newvalue
+utilitywrite
+mxmlheaderstarted
+prtrue
+prfreeif
+newvalue
+nsok
+nsresult
+nsmimexmlemitter
+writexmltag
+tagname
+value
+value
+value
+nsok
+upcasetag
+newvalue
+nsescapehtml
+value
+newvalue
+nsok
+nsstring
+newtagname
+newtagname
+assignwithconversion
+tagname
+newtagname
+compresswhitespace
+prtrue
+prtrue
+touppercase
+newtagname
+upcasetag
+tonewcstring
+newtagname
+utilitywrite
+header
+field
+utilitywrite
+upcasetag
+utilitywrite
+utilitywrite
+headerdisplayname
+lntagname
+localizeheadername
+upcasetag
+tagname
+lntagname
+lntagname
+utilitywrite
+tagname
+utilitywrite
+lntagname
+prfreeif
+lntagname
+utilitywrite
+utilitywrite
+headerdisplayname
+utilitywrite
+newvalue
+utilitywrite
+header
+nscrt
+free
+upcasetag
+prfreeif
+newvalue
+nsok
+nsresult
+nsmimexmlemitter
+startheader
+prbool
+rootmailheader
+prbool
+headeronly
+msgid
+outcharset
+mdocheader
+rootmailheader
+writexmlheader
+msgid
+utilitywrite
+mailheader
+nsok
+nsresult
+nsmimexmlemitter
+addheaderfield
+field
+value
+field
+value
+nsok
+writexmltag
+field
+value
+nsok
+nsresult
+nsmimexmlemitter
+endheader
+utilitywrite
+mailheader
+nsok
+nsresult
+nsmimexmlemitter
+startattachment
+name
+contenttype
+url
+prbool
+anotdownloaded
+buf
+mattachcount
+sprintf
+buf
+mailattachment
+id
+mattachcount
+utilitywrite
+buf
+addattachmentfield
+headerparmfilename
+name
+nsok
+nsresult
+nsmimexmlemitter
+addattachmentfield
+field
+value
+writexmltag
+field
+value
+nsok
+nsresult
+nsmimexmlemitter
+endattachment
+utilitywrite
+mailattachment
+nsok
\ No newline at end of file
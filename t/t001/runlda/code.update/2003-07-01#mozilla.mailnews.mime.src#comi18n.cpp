@@ -0,0 +1,1131 @@
+nsicharsetconvertermanager
+nsicharsetalias
+stdio
+stdlib
+assert
+prtypes
+prmem
+prlog
+prprf
+plstr
+nscrt
+comin
+nsiservicemanager
+nsistringcharsetdetector
+nsipref
+mimebuf
+nsmsgin
+nsmimetypes
+nsicharsetconvertermanager
+nsisaveascharset
+nshankakutozenkakucid
+nsreadableutils
+mimehdrs
+nsimimeheaderparam
+nsnetcid
+basis
+abcdefghijklmnopqrstuvwxyzabcdefghijklmnopqrstuvwxyz
+define
+noqencodingneeded
+ch
+ch
+ch
+ch
+ch
+ch
+ch
+ch
+ch
+ch
+ch
+ch
+hexdigits
+abcdef
+print
+intlmimeencodeq
+src
+print
+srcsize
+out
+in
+src
+end
+in
+srcsize
+head
+out
+in
+end
+in
+noqencodingneeded
+in
+out
+in
+in
+out
+out
+out
+hexdigits
+in
+out
+hexdigits
+in
+xf
+out
+out
+head
+encodechunk
+chunk
+output
+print
+offset
+offset
+chunk
+output
+basis
+offset
+offset
+chunk
+chunk
+output
+basis
+offset
+chunk
+offset
+chunk
+xf
+chunk
+xc
+output
+basis
+offset
+output
+chunk
+offset
+chunk
+xf
+output
+basis
+offset
+output
+print
+intlmimeencodeb
+input
+print
+inlen
+output
+chunk
+print
+len
+head
+output
+len
+inlen
+inlen
+chunk
+input
+encodechunk
+chunk
+output
+output
+len
+inlen
+inlen
+chunk
+input
+chunk
+encodechunk
+chunk
+output
+output
+output
+output
+head
+prbool
+intlmimeonlyasciistr
+prfalse
+prtrue
+utfnextchar
+str
+str
+str
+len
+strlen
+str
+len
+str
+xe
+str
+len
+str
+xc
+str
+str
+print
+generateencodedwords
+putf
+charset
+method
+output
+print
+outlen
+print
+outputcarryoverlen
+print
+foldlen
+prbool
+foldingonly
+nsassertion
+outputcarryoverlen
+outputcarryoverlen
+must
+be
+nscomptr
+nsisaveascharset
+conv
+prunichar
+pucs
+nsnull
+pucs
+nsnull
+pucshead
+nsnull
+cucstmp
+ibuf
+output
+encodedwordhead
+kmaxcsname
+nscautostring
+charset
+putfhead
+nsnull
+cutftmp
+print
+olen
+offset
+linelen
+outputcarryoverlen
+convlen
+print
+encodedwordheadlen
+encodedwordtaillen
+foldingonly
+nsresult
+rv
+encodedwordhead
+foldingonly
+pucs
+pucs
+tonewunicode
+nsconvertutftoucs
+putf
+pucs
+nscomptr
+nsicharsetalias
+calias
+dogetservice
+nscharsetaliascontractid
+rv
+nscomptr
+nsiatom
+charsetatom
+charset
+nscrt
+strcasecmp
+charset
+us
+ascii
+iso
+charset
+rv
+calias
+getpreferred
+nsdependentcstring
+charset
+charset
+nsfailed
+rv
+pucs
+nsmemory
+free
+pucs
+charset
+charset
+get
+prsnprintf
+encodedwordhead
+encodedwordhead
+charset
+method
+pucs
+nsmemory
+free
+pucs
+encodedwordheadlen
+strlen
+encodedwordhead
+nscrt
+strcasecmp
+iso
+jp
+charset
+print
+convkana
+convkana
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nsnull
+prefs
+nssucceeded
+rv
+prbool
+val
+nsfailed
+prefs
+getboolpref
+mailnews
+sendhankakukana
+val
+val
+prfalse
+convkana
+val
+convkana
+nscomptr
+nsitexttransform
+texttransform
+rv
+nscomponentmanager
+createinstance
+nshankakutozenkakucontractid
+nsnull
+nsgetiid
+nsitexttransform
+getteraddrefs
+texttransform
+nssucceeded
+rv
+nsstring
+text
+pucs
+result
+rv
+texttransform
+change
+pucs
+nscrt
+strlen
+pucs
+result
+nssucceeded
+rv
+pucs
+nsmemory
+free
+pucs
+pucs
+pucs
+tonewunicode
+result
+pucs
+conv
+docreateinstance
+nssaveascharsetcontractid
+rv
+nssucceeded
+rv
+rv
+conv
+init
+charset
+nsisaveascharset
+attrfallbackquestionmark
+nsisaveascharset
+attrentityaftercharsetconv
+nsientityconverter
+transliterate
+nsfailed
+rv
+pucs
+nsmemory
+free
+pucs
+linelen
+encodedwordheadlen
+encodedwordtaillen
+foldlen
+foldingonly
+offset
+strlen
+putfhead
+putf
+putf
+offset
+rv
+conv
+convert
+pucs
+ibuf
+nsfailed
+rv
+ibuf
+nsnull
+pucs
+nsmemory
+free
+pucs
+method
+offset
+strlen
+ibuf
+offset
+print
+ibuf
+offset
+noqencodingneeded
+ibuf
+linelen
+encodedwordheadlen
+offset
+encodedwordtaillen
+foldlen
+foldingonly
+putf
+putfhead
+putfhead
+nsnull
+prfree
+ibuf
+strcpy
+encodedwordhead
+olen
+encodedwordheadlen
+linelen
+encodedwordheadlen
+encodedwordheadlen
+foldingonly
+pucs
+strcpy
+olen
+linelen
+foldingonly
+putf
+pucs
+olen
+outlen
+strcpy
+encodedwordhead
+olen
+encodedwordheadlen
+linelen
+encodedwordheadlen
+encodedwordheadlen
+olen
+encodedwordtaillen
+foldingonly
+putfhead
+putf
+pucshead
+pucs
+foldingonly
+putf
+pucs
+olen
+outlen
+foldingonly
+putf
+putf
+putf
+tab
+putf
+offset
+putf
+putfhead
+cutftmp
+putf
+putf
+putf
+convlen
+pucs
+pucshead
+cucstmp
+pucshead
+convlen
+pucshead
+convlen
+rv
+conv
+convert
+pucshead
+ibuf
+pucshead
+convlen
+cucstmp
+nsfailed
+rv
+ibuf
+nsnull
+pucs
+nsmemory
+free
+pucs
+method
+offset
+strlen
+ibuf
+offset
+print
+ibuf
+offset
+noqencodingneeded
+ibuf
+linelen
+offset
+foldlen
+processlastline
+print
+enclen
+foldingonly
+strcpy
+putfhead
+enclen
+strlen
+enclen
+putf
+cutftmp
+method
+enclen
+intlmimeencodeb
+ibuf
+strlen
+ibuf
+enclen
+intlmimeencodeq
+ibuf
+strlen
+ibuf
+prfree
+ibuf
+enclen
+strcpy
+encodedwordtaillen
+olen
+enclen
+foldingonly
+putf
+pucs
+strcpy
+olen
+linelen
+foldingonly
+putfhead
+nsnull
+putf
+putf
+tab
+putf
+putf
+pucs
+nsmemory
+free
+pucs
+linelen
+enclen
+encodedwordtaillen
+foldingonly
+putf
+cutftmp
+pucs
+prfree
+ibuf
+processlastline
+rfcaddresslist
+displayname
+prbool
+asciionly
+addrspec
+rfcaddresslist
+next
+rfcaddresslist
+destroyaddresslist
+rfcaddresslist
+next
+destroyaddresslist
+next
+prfreeif
+displayname
+prfreeif
+addrspec
+prfree
+rfcaddresslist
+constructaddresslist
+prbool
+quoted
+prfalse
+angleaddr
+prfalse
+print
+comment
+displayname
+nsnull
+addrspec
+nsnull
+rfcaddresslist
+listinit
+rfcaddresslist
+listhead
+rfcaddresslist
+prmalloc
+rfcaddresslist
+rfcaddresslist
+list
+listhead
+list
+nsnull
+tab
+list
+listinit
+quoted
+comment
+quoted
+comment
+displayname
+comment
+prfreeif
+list
+displayname
+list
+displayname
+nscrt
+strdup
+displayname
+list
+asciionly
+intlmimeonlyasciistr
+displayname
+comment
+quoted
+quoted
+quoted
+displayname
+tmp
+prfreeif
+list
+displayname
+list
+displayname
+nscrt
+strdup
+displayname
+list
+asciionly
+intlmimeonlyasciistr
+displayname
+tmp
+quoted
+comment
+angleaddr
+prtrue
+addrspec
+displayname
+tmp
+tab
+tmp
+prfreeif
+list
+displayname
+list
+displayname
+nscrt
+strdup
+displayname
+list
+asciionly
+intlmimeonlyasciistr
+displayname
+tmp
+tmp
+angleaddr
+prfalse
+tmp
+prfreeif
+list
+addrspec
+list
+addrspec
+nscrt
+strdup
+addrspec
+tmp
+quoted
+comment
+angleaddr
+addrspec
+displayname
+list
+addrspec
+nscrt
+strdup
+displayname
+prfreeif
+list
+displayname
+addrspec
+displayname
+nsnull
+list
+next
+rfcaddresslist
+prmalloc
+rfcaddresslist
+list
+list
+next
+list
+listinit
+tab
+tab
+displayname
+tab
+displayname
+addrspec
+displayname
+list
+addrspec
+nscrt
+strdup
+displayname
+prfreeif
+list
+displayname
+listhead
+applyrfcencoding
+src
+prbool
+structured
+charset
+print
+cursor
+print
+foldlen
+rfcaddresslist
+listhead
+list
+print
+outputlen
+usedlen
+src
+srchead
+output
+outputtail
+method
+nsmsginmultibytecharset
+charset
+src
+nsnull
+src
+srchead
+nscrt
+strdup
+src
+nsnull
+nsnull
+outputlen
+strlen
+src
+kmaxcsname
+outputtail
+output
+prmalloc
+outputlen
+nsnull
+prfree
+srchead
+nsnull
+structured
+listhead
+list
+constructaddresslist
+src
+list
+prfree
+output
+output
+nsnull
+list
+outputlen
+list
+list
+next
+list
+displayname
+list
+asciionly
+list
+addrspec
+print
+len
+cursor
+strlen
+list
+displayname
+strlen
+list
+addrspec
+foldlen
+len
+len
+prsnprintf
+outputtail
+outputlen
+list
+listhead
+cursor
+list
+displayname
+list
+addrspec
+list
+next
+usedlen
+strlen
+outputtail
+outputtail
+usedlen
+outputlen
+usedlen
+cursor
+cursor
+generateencodedwords
+list
+displayname
+charset
+method
+outputtail
+outputlen
+cursor
+foldlen
+list
+asciionly
+cursor
+prfree
+output
+output
+nsnull
+usedlen
+strlen
+outputtail
+outputtail
+usedlen
+outputlen
+usedlen
+list
+addrspec
+usedlen
+strlen
+list
+addrspec
+cursor
+usedlen
+foldlen
+prsnprintf
+outputtail
+outputlen
+list
+addrspec
+prfree
+output
+destroyaddresslist
+listhead
+nsnull
+usedlen
+cursor
+usedlen
+prsnprintf
+outputtail
+outputlen
+list
+addrspec
+prfree
+output
+destroyaddresslist
+listhead
+nsnull
+usedlen
+cursor
+usedlen
+outputtail
+usedlen
+outputlen
+usedlen
+prfree
+output
+output
+nsnull
+list
+next
+strcpy
+outputtail
+cursor
+outputtail
+outputlen
+destroyaddresslist
+listhead
+spacepos
+nsnull
+orgoutput
+output
+src
+tab
+spacepos
+spacepos
+head
+kmaxcsname
+print
+overhead
+skiplen
+prsnprintf
+head
+head
+charset
+method
+prfree
+output
+nsnull
+overhead
+strlen
+head
+skiplen
+spacepos
+src
+cursor
+skiplen
+overhead
+foldlen
+tmp
+spacepos
+spacepos
+strcpy
+output
+src
+output
+skiplen
+outputlen
+skiplen
+cursor
+skiplen
+src
+skiplen
+src
+tmp
+prbool
+asciionly
+intlmimeonlyasciistr
+src
+generateencodedwords
+src
+charset
+method
+output
+outputlen
+cursor
+foldlen
+asciionly
+prfree
+orgoutput
+orgoutput
+nsnull
+output
+orgoutput
+prfree
+srchead
+output
+define
+public
+mimedecodemimeheader
+header
+defaultcharset
+prbool
+overridecharset
+prbool
+eatcontinuations
+nsresult
+rv
+nscomptr
+nsimimeheaderparam
+mimehdrpar
+dogetservice
+nsmimeheaderparamcontractid
+rv
+nsfailed
+rv
+nsnull
+nscautostring
+result
+rv
+mimehdrpar
+decoderfcheader
+header
+defaultcharset
+overridecharset
+eatcontinuations
+result
+nssucceeded
+rv
+nscrt
+strdup
+result
+get
+nsnull
+mimeencodemimepartiistr
+header
+prbool
+structured
+mailcharset
+print
+fieldnamelen
+print
+encodedwordsize
+applyrfcencoding
+header
+structured
+mailcharset
+fieldnamelen
+encodedwordsize
+nextcharutf
+str
+utfnextchar
+str
+nsresult
+mimedetectcharset
+abuf
+print
+alength
+acharset
+nsresult
+res
+thebuffer
+cbufdescriptor
+thebufdecriptor
+thebuffer
+prtrue
+thebuffer
+nscautostring
+detectorcontractid
+thebufdecriptor
+nsxpidlstring
+detectorname
+nscomptr
+nsistringcharsetdetector
+detector
+acharset
+nsnull
+detectorcontractid
+assign
+nsstrcdetectorcontractidbase
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+res
+nssucceeded
+res
+nssucceeded
+prefs
+getlocalizedunicharpref
+intl
+charset
+detector
+gettercopies
+detectorname
+detectorcontractid
+append
+nsconvertucstoutf
+detectorname
+get
+detectorcontractid
+length
+nsstrcdetectorcontractidbase
+detector
+docreateinstance
+detectorcontractid
+get
+res
+nssucceeded
+res
+nsdetectionconfident
+oconfident
+res
+detector
+doit
+abuf
+alength
+acharset
+oconfident
+nssucceeded
+res
+ebestanswer
+oconfident
+esureanswer
+oconfident
+nsok
+res
+nsresult
+mimegetunicodedecoder
+ainputcharset
+nsiunicodedecoder
+adecoder
+nsresult
+res
+nscomptr
+nsicharsetconvertermanager
+ccm
+dogetservice
+nscharsetconvertermanagercontractid
+res
+nssucceeded
+res
+ainputcharset
+nscrt
+strcasecmp
+us
+ascii
+ainputcharset
+res
+ccm
+getunicodedecoderraw
+iso
+adecoder
+res
+ccm
+getunicodedecoder
+ainputcharset
+adecoder
+res
+nsresult
+mimegetunicodeencoder
+aoutputcharset
+nsiunicodeencoder
+aencoder
+nsresult
+res
+nscomptr
+nsicharsetconvertermanager
+ccm
+dogetservice
+nscharsetconvertermanagercontractid
+res
+nssucceeded
+res
+aoutputcharset
+res
+ccm
+getunicodeencoder
+aoutputcharset
+aencoder
+res nsresult
\ No newline at end of file
@@ -0,0 +1,313 @@
+prmem
+plstr
+prlog
+nscrt
+msgcore
+nsmimestringresources
+mimegrowbuffer
+pruint
+desiredsize
+pruint
+elementsize
+pruint
+quantum
+buffer
+print
+size
+pruint
+size
+desiredsize
+newbuf
+pruint
+increment
+desiredsize
+size
+increment
+quantum
+increment
+quantum
+newbuf
+buffer
+prrealloc
+buffer
+size
+increment
+elementsize
+prmalloc
+size
+increment
+elementsize
+newbuf
+mimeoutofmemory
+buffer
+newbuf
+size
+increment
+mimerebuffer
+netbuffer
+print
+netbuffersize
+pruint
+desiredbuffersize
+bufferp
+print
+buffersizep
+pruint
+bufferfpp
+print
+perbufferfn
+buffer
+pruint
+buffersize
+closure
+closure
+status
+desiredbuffersize
+pruint
+buffersizep
+status
+mimegrowbuffer
+desiredbuffersize
+bufferp
+buffersizep
+status
+status
+print
+size
+buffersizep
+bufferfpp
+size
+netbuffersize
+size
+netbuffersize
+size
+memcpy
+bufferp
+bufferfpp
+netbuffer
+size
+bufferfpp
+size
+netbuffer
+size
+netbuffersize
+size
+bufferfpp
+bufferfpp
+desiredbuffersize
+status
+perbufferfn
+bufferp
+bufferfpp
+closure
+bufferfpp
+status
+status
+netbuffersize
+convertandsendbuffer
+buf
+length
+prbool
+convertnewlinesp
+print
+prcallback
+perlinefn
+line
+pruint
+linelength
+closure
+closure
+newline
+msglinebreaklen
+length
+buf
+buf
+nscrt
+lf
+endif
+nsassertion
+buf
+length
+rhp
+netscape
+mar
+buf
+length
+newline
+buf
+length
+nsassertion
+newline
+nscrt
+cr
+newline
+nscrt
+lf
+rhp
+netscape
+mar
+newline
+nscrt
+cr
+newline
+nscrt
+lf
+convertnewlinesp
+msglinebreaklen
+newline
+buf
+newline
+nscrt
+cr
+newline
+nscrt
+lf
+buf
+length
+msglinebreak
+length
+newline
+buf
+newline
+msglinebreak
+buf
+length
+msglinebreak
+newline
+buf
+newline
+nscrt
+cr
+newline
+buf
+newline
+nscrt
+lf
+length
+buf
+length
+msglinebreak
+buf
+length
+msglinebreak
+endif
+perlinefn
+buf
+length
+closure
+mimelinebuffer
+netbuffer
+print
+netbuffersize
+bufferp
+print
+buffersizep
+pruint
+bufferfpp
+prbool
+convertnewlinesp
+print
+prcallback
+perlinefn
+line
+pruint
+linelength
+closure
+closure
+status
+bufferfpp
+bufferp
+bufferp
+bufferfpp
+nscrt
+cr
+netbuffersize
+netbuffer
+nscrt
+lf
+nsassertion
+pruint
+buffersizep
+bufferfpp
+rhp
+netscape
+mar
+pruint
+buffersizep
+bufferfpp
+status
+convertandsendbuffer
+bufferp
+bufferfpp
+convertnewlinesp
+perlinefn
+closure
+status
+status
+bufferfpp
+netbuffersize
+netbufferend
+netbuffer
+netbuffersize
+newline
+netbuffer
+netbufferend
+nscrt
+cr
+nscrt
+lf
+newline
+newline
+nscrt
+cr
+netbufferend
+newline
+newline
+nscrt
+lf
+newline
+newline
+end
+newline
+newline
+netbufferend
+pruint
+desiredsize
+end
+netbuffer
+bufferfpp
+desiredsize
+pruint
+buffersizep
+status
+mimegrowbuffer
+desiredsize
+bufferp
+buffersizep
+status
+status
+memcpy
+bufferp
+bufferfpp
+netbuffer
+end
+netbuffer
+bufferfpp
+end
+netbuffer
+newline
+status
+convertandsendbuffer
+bufferp
+bufferfpp
+convertnewlinesp
+perlinefn
+closure
+status
+status
+netbuffersize
+newline
+netbuffer
+netbuffer
+newline
+bufferfpp
\ No newline at end of file
@@ -0,0 +1,1029 @@
+nsicmsmessage
+nsicmsmessageerrors
+nsicmsdecoder
+mimecms
+mimemsig
+nscrt
+nspr
+nsescape
+mimemsg
+mimemoz
+nsiuri
+nsimsgwindow
+nsimsgmailnewsurl
+nsimimemiscstatus
+nsimsgsmimeheadersink
+nscomptr
+nsixcert
+define
+mimesuperclass
+mimeencryptedclass
+mimedefclass
+mimeencryptedcms
+mimeencryptedcmsclass
+mimeencryptedcmsclass
+mimesuperclass
+mimecmsinit
+mimeobject
+outputfn
+print
+mimecmswrite
+print
+mimecmseof
+prbool
+mimecmsgenerate
+mimecmsfree
+mimecmsgetcontentinfo
+mimeobject
+nsicmsmessage
+print
+print
+prbool
+secerrorcertaddrmismatch
+mimeencryptedcmsclassinitialize
+mimeencryptedcmsclass
+clazz
+ifdef
+debug
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+nsassertion
+oclass
+classinitialized
+mscott
+netscape
+nov
+endif
+mimeencryptedclass
+eclass
+mimeencryptedclass
+clazz
+eclass
+cryptoinit
+mimecmsinit
+eclass
+cryptowrite
+mimecmswrite
+eclass
+cryptoeof
+mimecmseof
+eclass
+cryptogeneratehtml
+mimecmsgenerate
+eclass
+cryptofree
+mimecmsfree
+clazz
+getcontentinfo
+mimecmsgetcontentinfo
+mimecmsdata
+outputfn
+buf
+print
+bufsize
+outputclosure
+outputclosure
+nscomptr
+nsicmsdecoder
+decodercontext
+nscomptr
+nsicmsmessage
+contentinfo
+prbool
+ciisencrypted
+senderaddr
+print
+decodeerror
+print
+verifyerror
+mimeobject
+self
+prbool
+parentisencryptedp
+prbool
+parentholdsstampp
+nscomptr
+nsimsgsmimeheadersink
+smimeheadersink
+mimecmsdata
+outputfn
+nsnull
+outputclosure
+nsnull
+ciisencrypted
+prfalse
+senderaddr
+nsnull
+decodeerror
+prfalse
+verifyerror
+prfalse
+self
+nsnull
+parentisencryptedp
+prfalse
+parentholdsstampp
+prfalse
+mimecmsdata
+senderaddr
+prfree
+senderaddr
+decodercontext
+nscomptr
+nsicmsmessage
+cinfo
+decodercontext
+finish
+getteraddrefs
+cinfo
+mimecmsdata
+mimecmsgetcontentinfo
+mimeobject
+obj
+nsicmsmessage
+contentinforet
+senderemailaddrreturn
+print
+decodeerrorret
+print
+verifyerrorret
+prbool
+ciisencrypted
+mimeencrypted
+enc
+mimeencrypted
+obj
+enc
+enc
+cryptoclosure
+mimecmsdata
+data
+mimecmsdata
+enc
+cryptoclosure
+decodeerrorret
+data
+decodeerror
+verifyerrorret
+data
+verifyerror
+contentinforet
+data
+contentinfo
+ciisencrypted
+data
+ciisencrypted
+senderemailaddrreturn
+senderemailaddrreturn
+data
+senderaddr
+nscrt
+strdup
+data
+senderaddr
+mimecmscontentcallback
+arg
+buf
+length
+status
+mimecmsdata
+data
+mimecmsdata
+arg
+data
+data
+outputfn
+prseterror
+status
+data
+outputfn
+buf
+length
+data
+outputclosure
+status
+prseterror
+status
+data
+outputfn
+prbool
+mimeencryptedcmsencryptedp
+mimeobject
+obj
+prbool
+encrypted
+obj
+prfalse
+mimetypep
+obj
+mimeobjectclass
+mimeencryptedcmsclass
+mimeencrypted
+enc
+mimeencrypted
+obj
+mimecmsdata
+data
+mimecmsdata
+enc
+cryptoclosure
+data
+data
+contentinfo
+prfalse
+data
+contentinfo
+contentisencrypted
+encrypted
+encrypted
+prfalse
+parserfcaddresses
+line
+names
+addresses
+imapcreatereloadallpartsurl
+url
+prbool
+mimecmsheadersandcertsmatch
+mimeobject
+obj
+nsicmsmessage
+contentinfo
+prbool
+signingcertwithoutemailaddress
+senderemailaddrreturn
+mimeheaders
+msgheaders
+nsxpidlcstring
+fromaddr
+nsxpidlcstring
+fromname
+nsxpidlcstring
+senderaddr
+nsxpidlcstring
+sendername
+nsxpidlcstring
+certaddr
+prbool
+match
+prtrue
+prbool
+foundfrom
+prfalse
+prbool
+foundsender
+prfalse
+contentinfo
+contentinfo
+getsigneremailaddress
+gettercopies
+certaddr
+signingcertwithoutemailaddress
+signingcertwithoutemailaddress
+certaddr
+certaddr
+match
+prfalse
+done
+mimeobject
+obj
+msgheaders
+headers
+parent
+mimetypep
+parent
+mimeobjectclass
+mimemessageclass
+parent
+msgheaders
+headers
+msgheaders
+match
+prfalse
+done
+mimeheadersget
+msgheaders
+headerfrom
+prfalse
+prfalse
+parserfcaddresses
+gettercopies
+fromname
+gettercopies
+fromaddr
+prfreeif
+mimeheadersget
+msgheaders
+headersender
+prfalse
+prfalse
+parserfcaddresses
+gettercopies
+sendername
+gettercopies
+senderaddr
+prfreeif
+certaddr
+match
+prfalse
+nscomptr
+nsixcert
+signercert
+contentinfo
+getsignercert
+getteraddrefs
+signercert
+signercert
+fromaddr
+fromaddr
+nsconvertasciitoucs
+ucsfrom
+fromaddr
+nsfailed
+signercert
+containsemailaddress
+ucsfrom
+foundfrom
+foundfrom
+prfalse
+senderaddr
+senderaddr
+nsconvertasciitoucs
+ucssender
+senderaddr
+nsfailed
+signercert
+containsemailaddress
+ucssender
+foundsender
+foundsender
+prfalse
+foundsender
+foundfrom
+match
+prfalse
+senderemailaddrreturn
+match
+foundfrom
+senderemailaddrreturn
+nscrt
+strdup
+fromaddr
+match
+foundsender
+senderemailaddrreturn
+nscrt
+strdup
+senderaddr
+fromaddr
+fromaddr
+senderemailaddrreturn
+nscrt
+strdup
+fromaddr
+senderaddr
+senderaddr
+senderemailaddrreturn
+nscrt
+strdup
+senderaddr
+senderemailaddrreturn
+done
+match
+mimegetrelativecryptonestlevel
+mimeobject
+obj
+atopmessagenestlevel
+mimeobject
+atopshownobject
+nsnull
+obj
+obj
+options
+parttoload
+prbool
+aalreadyfoundtop
+prfalse
+mimeobject
+walker
+obj
+walker
+walker
+walker
+parent
+aalreadyfoundtop
+mimetypep
+walker
+mimeobjectclass
+mimeencryptedclass
+mimetypep
+walker
+mimeobjectclass
+mimemultipartsignedclass
+atopmessagenestlevel
+aalreadyfoundtop
+strcmp
+mimepartaddress
+walker
+walker
+options
+parttoload
+aalreadyfoundtop
+prtrue
+atopshownobject
+walker
+aalreadyfoundtop
+walker
+parent
+atopshownobject
+walker
+prbool
+cryptoobjectischildoftopshownobject
+prfalse
+atopshownobject
+cryptoobjectischildoftopshownobject
+prtrue
+acryptopartnestlevel
+obj
+mimeobject
+walker
+obj
+walker
+walker
+walker
+parent
+mimetypep
+walker
+mimeobjectclass
+mimeencryptedclass
+mimetypep
+walker
+mimeobjectclass
+mimemultipartsignedclass
+acryptopartnestlevel
+atopshownobject
+walker
+parent
+atopshownobject
+cryptoobjectischildoftopshownobject
+prtrue
+cryptoobjectischildoftopshownobject
+acryptopartnestlevel
+atopmessagenestlevel
+mimecmsinit
+mimeobject
+obj
+outputfn
+buf
+print
+bufsize
+outputclosure
+outputclosure
+mimecmsdata
+data
+mimedisplayoptions
+opts
+nsresult
+rv
+obj
+obj
+options
+outputfn
+opts
+obj
+options
+data
+mimecmsdata
+data
+data
+self
+obj
+data
+outputfn
+outputfn
+data
+outputclosure
+outputclosure
+prseterror
+data
+decodercontext
+docreateinstance
+nscmsdecodercontractid
+rv
+nsfailed
+rv
+rv
+data
+decodercontext
+start
+mimecmscontentcallback
+data
+nsfailed
+rv
+data
+parentholdsstampp
+obj
+parent
+mimecryptostampedp
+obj
+parent
+mimetypep
+obj
+parent
+mimeobjectclass
+mimeencryptedclass
+data
+parentisencryptedp
+obj
+parent
+mimeencryptedcmsencryptedp
+obj
+parent
+data
+parentisencryptedp
+data
+parentholdsstampp
+obj
+parent
+obj
+parent
+parent
+data
+parentholdsstampp
+mimecryptostampedp
+obj
+parent
+parent
+mimestreamdata
+msd
+mimestreamdata
+data
+self
+options
+streamclosure
+msd
+nsichannel
+channel
+msd
+channel
+channel
+nscomptr
+nsiuri
+uri
+nscomptr
+nsimsgwindow
+msgwindow
+nscomptr
+nsimsgheadersink
+headersink
+nscomptr
+nsimsgmailnewsurl
+msgurl
+nscomptr
+nsisupports
+securityinfo
+channel
+geturi
+getteraddrefs
+uri
+uri
+nscautostring
+urlspec
+rv
+uri
+getspec
+urlspec
+strstr
+urlspec
+get
+header
+filter
+strstr
+urlspec
+get
+header
+filter
+msgurl
+doqueryinterface
+uri
+msgurl
+msgurl
+getmsgwindow
+getteraddrefs
+msgwindow
+msgwindow
+msgwindow
+getmsgheadersink
+getteraddrefs
+headersink
+headersink
+headersink
+getsecurityinfo
+getteraddrefs
+securityinfo
+securityinfo
+data
+smimeheadersink
+doqueryinterface
+securityinfo
+data
+mimecmswrite
+buf
+print
+bufsize
+closure
+mimecmsdata
+data
+mimecmsdata
+closure
+nsresult
+rv
+data
+data
+outputfn
+data
+decodercontext
+prseterror
+rv
+data
+decodercontext
+update
+buf
+bufsize
+nsfailed
+rv
+data
+verifyerror
+mimecmseof
+cryptoclosure
+prbool
+abortp
+mimecmsdata
+data
+mimecmsdata
+cryptoclosure
+nsresult
+rv
+data
+data
+outputfn
+data
+decodercontext
+arelativenestlevel
+mimegetrelativecryptonestlevel
+data
+self
+prseterror
+rv
+data
+decodercontext
+finish
+getteraddrefs
+data
+contentinfo
+nsfailed
+rv
+data
+verifyerror
+prgeterror
+data
+decodercontext
+nscomptr
+nsixcert
+certofinterest
+data
+smimeheadersink
+arelativenestlevel
+print
+maxnestlevel
+data
+smimeheadersink
+maxwantednesting
+maxnestlevel
+arelativenestlevel
+maxnestlevel
+print
+status
+nsicmsmessageerrors
+success
+data
+verifyerror
+data
+decodeerror
+nsfailed
+rv
+status
+nsicmsmessageerrors
+generalerror
+data
+contentinfo
+status
+nsicmsmessageerrors
+generalerror
+data
+ciisencrypted
+prtrue
+rv
+data
+contentinfo
+contentisencrypted
+data
+ciisencrypted
+nssucceeded
+rv
+data
+ciisencrypted
+data
+contentinfo
+getencryptioncert
+getteraddrefs
+certofinterest
+prbool
+testissigned
+rv
+data
+contentinfo
+contentissigned
+testissigned
+nsfailed
+rv
+testissigned
+rv
+data
+contentinfo
+verifysignature
+nsfailed
+rv
+nserrormodulesecurity
+nserrorgetmodule
+rv
+status
+nserrorgetcode
+rv
+nserrornotimplemented
+rv
+status
+nsicmsmessageerrors
+verifyerrorprocessing
+prbool
+signingcertwithoutemailaddress
+mimecmsheadersandcertsmatch
+data
+self
+data
+contentinfo
+signingcertwithoutemailaddress
+data
+senderaddr
+status
+nsicmsmessageerrors
+success
+signingcertwithoutemailaddress
+status
+nsicmsmessageerrors
+verifycertwithoutaddress
+status
+nsicmsmessageerrors
+verifyheadermismatch
+data
+contentinfo
+getsignercert
+getteraddrefs
+certofinterest
+data
+ciisencrypted
+data
+smimeheadersink
+encryptionstatus
+arelativenestlevel
+status
+certofinterest
+data
+smimeheadersink
+signedstatus
+arelativenestlevel
+status
+certofinterest
+mimecmsfree
+cryptoclosure
+mimecmsdata
+data
+mimecmsdata
+cryptoclosure
+data
+data
+mimecmsmakesaurl
+mimeobject
+obj
+stampurl
+obj
+parent
+mimetypep
+obj
+parent
+mimeobjectclass
+mimemessageclass
+obj
+obj
+parent
+mimetypep
+obj
+parent
+mimeobjectclass
+mimeencryptedclass
+mimetypep
+obj
+parent
+mimeobjectclass
+mimemultipartsignedclass
+endif
+mimetypep
+obj
+parent
+mimeobjectclass
+mimeencryptedclass
+obj
+obj
+parent
+nsassertion
+obj
+mscott
+netscape
+nov
+obj
+options
+baseurl
+obj
+options
+url
+id
+baseurl
+mimepartaddress
+obj
+url
+id
+baseurl
+mimeseturlpart
+baseurl
+id
+prtrue
+url
+url
+nsescape
+url
+urlxalphas
+prfreeif
+id
+prfreeif
+url
+stampurl
+prmalloc
+strlen
+url
+stampurl
+plstrcpy
+stampurl
+about
+security
+advisor
+plstrcat
+stampurl
+url
+prfreeif
+url
+stampurl
+mimecmsgenerate
+cryptoclosure
+mimecmsdata
+data
+mimecmsdata
+cryptoclosure
+prbool
+selfsignedp
+prfalse
+prbool
+selfencryptedp
+prfalse
+prbool
+unionencryptedp
+prfalse
+prbool
+goodp
+prfalse
+prbool
+unverifiedp
+prfalse
+data
+data
+outputfn
+data
+contentinfo
+data
+contentinfo
+contentissigned
+selfsignedp
+data
+contentinfo
+contentisencrypted
+selfencryptedp
+unionencryptedp
+selfencryptedp
+data
+parentisencryptedp
+selfsignedp
+prseterror
+goodp
+data
+contentinfo
+verifysignature
+goodp
+data
+verifyerror
+data
+verifyerror
+prgeterror
+data
+verifyerror
+data
+verifyerror
+prbool
+signingcertwithoutemailaddress
+goodp
+mimecmsheadersandcertsmatch
+data
+self
+data
+contentinfo
+signingcertwithoutemailaddress
+data
+senderaddr
+goodp
+data
+verifyerror
+data
+verifyerror
+secpkcscontainscertsorcrls
+data
+contentinfo
+endif
+secpkcsdestroycontentinfo
+data
+contentinfo
+data
+contentinfo
+endif
+selfencryptedp
+prtrue
+unionencryptedp
+prtrue
+data
+decodeerror
+data
+verifyerror
+data
+decodeerror
+unverifiedp
+data
+self
+options
+missingparts
+data
+self
+data
+self
+parent
+mimesetcryptostamp
+data
+self
+parent
+selfsignedp
+selfencryptedp
+stampurl
+result
+nsnull
+data
+self
+unverifiedp
+data
+self
+options
+stampurl
+nsnull
+stampurl
+mimecmsmakesaurl
+data
+self
+result
+mimeheadersmakecryptostamp
+unionencryptedp
+selfsignedp
+goodp
+unverifiedp
+data
+parentholdsstampp
+stampurl
+prfreeif
+stampurl
+result
\ No newline at end of file
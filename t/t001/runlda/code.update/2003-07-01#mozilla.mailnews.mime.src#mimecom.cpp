@@ -0,0 +1,32 @@
+mimei
+mimeobj
+mimecont
+mimemult
+mimemsig
+mimetext
+mimecth
+xpcomgetmimeinlinetextclass
+mimeinlinetextclass
+xpcomgetmimeleafclass
+mimeleafclass
+xpcomgetmimeobjectclass
+mimeobjectclass
+xpcomgetmimecontainerclass
+mimecontainerclass
+xpcomgetmimemultipartclass
+mimemultipartclass
+xpcomgetmimemultipartsignedclass
+mimemultipartsignedclass
+xpcommimeobjectwrite
+mimeobject
+data
+print
+length
+prbool
+uservisiblep
+mimemimeobjectwrite
+mimeobject
+mimeobject
+data
+length
+uservisiblep
\ No newline at end of file
@@ -0,0 +1,319 @@
+prmem
+plstr
+prlog
+nscrt
+prio
+mimecont
+nsmimestringresources
+define
+mimesuperclass
+mimeobjectclass
+mimedefclass
+mimecontainer
+mimecontainerclass
+mimecontainerclass
+mimesuperclass
+mimecontainerinitialize
+mimeobject
+mimecontainerfinalize
+mimeobject
+mimecontaineraddchild
+mimeobject
+mimeobject
+mimecontainerparseeof
+mimeobject
+prbool
+mimecontainerparseend
+mimeobject
+prbool
+prbool
+mimecontainerdisplayableinlinep
+mimeobjectclass
+clazz
+mimeheaders
+hdrs
+defined
+debug
+defined
+xpunix
+mimecontainerdebugprint
+mimeobject
+prfiledesc
+print
+depth
+endif
+mimecontainerclassinitialize
+mimecontainerclass
+clazz
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+object
+nsassertion
+oclass
+classinitialized
+rhp
+netscape
+mar
+oclass
+initialize
+mimecontainerinitialize
+oclass
+finalize
+mimecontainerfinalize
+oclass
+parseeof
+mimecontainerparseeof
+oclass
+parseend
+mimecontainerparseend
+oclass
+displayableinlinep
+mimecontainerdisplayableinlinep
+clazz
+addchild
+mimecontaineraddchild
+defined
+debug
+defined
+xpunix
+oclass
+debugprint
+mimecontainerdebugprint
+endif
+mimecontainerinitialize
+mimeobject
+object
+nsassertion
+object
+clazz
+mimeobjectclass
+mimecontainerclass
+rhp
+netscape
+mar
+mimeobjectclass
+mimesuperclass
+initialize
+object
+mimecontainerfinalize
+mimeobject
+object
+mimecontainer
+cont
+mimecontainer
+object
+object
+closedp
+object
+clazz
+parseeof
+object
+prfalse
+object
+parsedp
+object
+clazz
+parseend
+object
+prfalse
+cont
+children
+cont
+nchildren
+mimeobject
+kid
+cont
+children
+kid
+mimefree
+kid
+cont
+children
+prfreeif
+cont
+children
+cont
+nchildren
+mimeobjectclass
+mimesuperclass
+finalize
+object
+mimecontainerparseeof
+mimeobject
+object
+prbool
+abortp
+mimecontainer
+cont
+mimecontainer
+object
+status
+status
+mimeobjectclass
+mimesuperclass
+parseeof
+object
+abortp
+status
+status
+cont
+children
+cont
+nchildren
+mimeobject
+kid
+cont
+children
+kid
+kid
+closedp
+lstatus
+kid
+clazz
+parseeof
+kid
+abortp
+lstatus
+lstatus
+mimecontainerparseend
+mimeobject
+object
+prbool
+abortp
+mimecontainer
+cont
+mimecontainer
+object
+status
+status
+mimeobjectclass
+mimesuperclass
+parseend
+object
+abortp
+status
+status
+cont
+children
+cont
+nchildren
+mimeobject
+kid
+cont
+children
+kid
+kid
+parsedp
+lstatus
+kid
+clazz
+parseend
+kid
+abortp
+lstatus
+lstatus
+mimecontaineraddchild
+mimeobject
+parent
+mimeobject
+child
+mimecontainer
+cont
+mimecontainer
+parent
+mimeobject
+oldkids
+newkids
+nsassertion
+parent
+child
+rhp
+netscape
+mar
+parent
+child
+oldkids
+cont
+children
+newkids
+mimeobject
+prmalloc
+mimeobject
+cont
+nchildren
+newkids
+mimeoutofmemory
+cont
+nchildren
+memcpy
+newkids
+oldkids
+mimeobject
+cont
+nchildren
+newkids
+cont
+nchildren
+child
+prfree
+oldkids
+cont
+children
+newkids
+cont
+nchildren
+child
+parent
+parent
+child
+options
+parent
+options
+prbool
+mimecontainerdisplayableinlinep
+mimeobjectclass
+clazz
+mimeheaders
+hdrs
+prtrue
+defined
+debug
+defined
+xpunix
+mimecontainerdebugprint
+mimeobject
+obj
+prfiledesc
+stream
+print
+depth
+mimecontainer
+cont
+mimecontainer
+obj
+addr
+mimepartaddress
+obj
+depth
+prwrite
+stream
+prfreeif
+addr
+cont
+nchildren
+mimeobject
+kid
+cont
+children
+status
+kid
+clazz
+debugprint
+kid
+stream
+depth
+status
+status
+endif nsresult
\ No newline at end of file
@@ -0,0 +1,3796 @@
+nscomptr
+modmimee
+mimeobj
+modlmime
+mimei
+mimebuf
+mimemoz
+mimemsg
+nsmimetypes
+prmem
+plstr
+prprf
+prio
+nsipref
+msgcore
+nscrt
+nsescape
+nsifilespec
+nsimsgsend
+nsfilestream
+nsmimestringresources
+nsiioservice
+comin
+nsimsgcompfields
+nsmsgcompcid
+nsimsgcomposeservice
+nsmsgin
+nsspecialsystemdirectory
+nsimsgmessageservice
+nsmsgutils
+nsxpidlstring
+nsreadableutils
+nscexternalhandlerservice
+nsimimeservice
+nsimimeinfo
+nsimsgheaderparser
+nsimsgaccountmanager
+nsmsgbasecid
+define
+headernntppostinghost
+nntp
+posting
+host
+define
+mimeheadertable
+table
+cellpadding
+cellspacing
+border
+define
+headerstartjunk
+tr
+th
+valign
+baseline
+align
+right
+nowrap
+define
+headermiddlejunk
+th
+td
+define
+headerendjunk
+td
+tr
+mimestripcontinuations
+original
+nsresult
+mimedecomposefileinitfn
+streamclosure
+mimeheaders
+headers
+nsresult
+mimedecomposefileoutputfn
+buf
+print
+size
+streamclosure
+nsresult
+mimedecomposefileclosefn
+streamclosure
+mimeheadersbuildheadslist
+mimeheaders
+hdrs
+nsdefinecid
+kcmsgcomposeservicecid
+nsmsgcomposeservicecid
+nsdefinecid
+kmsgcompfieldscid
+nsmsgcompfieldscid
+nsdefinecid
+kprefcid
+nsprefcid
+define
+safetmpfilename
+nsmime
+tmp
+nsfilespec
+nsmsgcreatetempfilespec
+tfilename
+nsfilespec
+tmpspec
+nsfilespec
+nsspecialsystemdirectory
+nsspecialsystemdirectory
+ostemporarydirectory
+nsassertion
+tmpspec
+out
+of
+memory
+tmpspec
+nsnull
+nsresult
+rv
+nsok
+nscautostring
+tempname
+tfilename
+tfilename
+tempname
+safetmpfilename
+tempname
+tfilename
+print
+dotchar
+tempname
+rfindchar
+dotchar
+knotfound
+rv
+nsmsghashifnecessary
+tempname
+nscautostring
+extension
+tempname
+right
+extension
+tempname
+length
+dotchar
+tempname
+truncate
+dotchar
+rv
+nsmsghashifnecessary
+tempname
+nssucceeded
+rv
+rv
+nsmsghashifnecessary
+extension
+nssucceeded
+rv
+tempname
+tempname
+extension
+rv
+nsmsghashifnecessary
+tempname
+nsassertion
+nssucceeded
+rv
+hash
+failed
+nsfailed
+rv
+tempname
+safetmpfilename
+tmpspec
+tempname
+get
+tmpspec
+makeunique
+tmpspec
+nsmsgreturnreceiptboolheadermask
+nsmsgencryptedboolheadermask
+nsmsgsignedboolheadermask
+nsmsguuencodebinaryboolheadermask
+nsmsgattachvcardboolheadermask
+nsmsglastboolheadermask
+nsmsgboolheaderset
+ifdef
+nsdebug
+mimedumpattachments
+nsmsgattachmentdata
+attachdata
+print
+nsmsgattachmentdata
+tmp
+attachdata
+tmp
+tmp
+realname
+printf
+real
+name
+tmp
+realname
+tmp
+url
+nscautostring
+spec
+tmp
+url
+getspec
+spec
+printf
+url
+spec
+get
+printf
+desired
+type
+tmp
+desiredtype
+tmp
+desiredtype
+nsnull
+printf
+real
+type
+tmp
+realtype
+tmp
+realtype
+nsnull
+printf
+real
+encoding
+tmp
+realencoding
+tmp
+realencoding
+nsnull
+printf
+description
+tmp
+description
+tmp
+description
+nsnull
+printf
+mac
+type
+tmp
+xmactype
+tmp
+xmactype
+nsnull
+printf
+mac
+creator
+tmp
+xmaccreator
+tmp
+xmaccreator
+nsnull
+tmp
+endif
+nsresult
+createthecomposewindow
+nsimsgcompfields
+compfields
+nsmsgattachmentdata
+attachmentlist
+msgcomposetype
+composetype
+msgcomposeformat
+composeformat
+nsimsgidentity
+identity
+originalmsguri
+nsresult
+rv
+msgcomposeformat
+format
+nsimsgcompformat
+default
+ifdef
+nsdebug
+mimedumpattachments
+attachmentlist
+endif
+nsmsgattachmentdata
+curattachment
+attachmentlist
+curattachment
+nscautostring
+spec
+curattachment
+curattachment
+realname
+rv
+curattachment
+url
+getspec
+spec
+nssucceeded
+rv
+nscomptr
+nsimsgattachment
+attachment
+docreateinstance
+nsmsgattachmentcontractid
+rv
+nssucceeded
+rv
+attachment
+nsautostring
+namestr
+rv
+converttounicode
+msgcompheaderinternalcharset
+curattachment
+realname
+namestr
+nsfailed
+rv
+namestr
+assignwithconversion
+curattachment
+realname
+attachment
+setname
+namestr
+get
+attachment
+seturl
+spec
+get
+attachment
+settemporary
+prtrue
+attachment
+setcontenttype
+curattachment
+realtype
+attachment
+setmactype
+curattachment
+xmactype
+attachment
+setmaccreator
+curattachment
+xmaccreator
+compfields
+addattachment
+attachment
+curattachment
+nscomptr
+nsimsgcomposeservice
+msgcomposeservice
+dogetservice
+kcmsgcomposeservicecid
+rv
+nsfailed
+rv
+msgcomposeservice
+rv
+identity
+composetype
+nsimsgcomptype
+forwardinline
+prbool
+composehtml
+prfalse
+identity
+getcomposehtml
+composehtml
+composehtml
+format
+nsimsgcompformat
+html
+format
+nsimsgcompformat
+plaintext
+composeformat
+nsimsgcompformat
+html
+compfields
+convertbodytoplaintext
+format
+composeformat
+nscomptr
+nsimsgcomposeparams
+pmsgcomposeparams
+docreateinstance
+nsmsgcomposeparamscontractid
+rv
+nssucceeded
+rv
+pmsgcomposeparams
+pmsgcomposeparams
+settype
+composetype
+pmsgcomposeparams
+setformat
+format
+pmsgcomposeparams
+setidentity
+identity
+pmsgcomposeparams
+setcomposefields
+compfields
+originalmsguri
+pmsgcomposeparams
+setoriginalmsguri
+originalmsguri
+rv
+msgcomposeservice
+opencomposewindowwithparams
+nsnull
+pmsgcomposeparams
+rv
+nsresult
+createcompositionfields
+from
+replyto
+to
+cc
+bcc
+fcc
+newsgroups
+followupto
+organization
+subject
+references
+otherrandomheaders
+priority
+newsposturl
+prbool
+xlatep
+prbool
+signp
+charset
+nsimsgcompfields
+retval
+nsensureargpointer
+retval
+nsresult
+rv
+retval
+nsnull
+nscomptr
+nsimsgcompfields
+cfields
+docreateinstance
+nsmsgcompfieldscontractid
+rv
+nsensuresuccess
+rv
+rv
+nsensuretrue
+cfields
+nserroroutofmemory
+cfields
+setcharacterset
+nscrt
+strcasecmp
+us
+ascii
+charset
+iso
+charset
+val
+from
+val
+mimedecodemimeheader
+from
+charset
+prfalse
+prtrue
+cfields
+setfrom
+nsconvertutftoucs
+val
+val
+from
+get
+prfreeif
+val
+subject
+val
+mimedecodemimeheader
+subject
+charset
+prfalse
+prtrue
+cfields
+setsubject
+nsconvertutftoucs
+val
+val
+subject
+get
+prfreeif
+val
+replyto
+val
+mimedecodemimeheader
+replyto
+charset
+prfalse
+prtrue
+cfields
+setreplyto
+nsconvertutftoucs
+val
+val
+replyto
+get
+prfreeif
+val
+to
+val
+mimedecodemimeheader
+to
+charset
+prfalse
+prtrue
+cfields
+setto
+nsconvertutftoucs
+val
+val
+to
+get
+prfreeif
+val
+cc
+val
+mimedecodemimeheader
+cc
+charset
+prfalse
+prtrue
+cfields
+setcc
+nsconvertutftoucs
+val
+val
+cc
+get
+prfreeif
+val
+bcc
+val
+mimedecodemimeheader
+bcc
+charset
+prfalse
+prtrue
+cfields
+setbcc
+nsconvertutftoucs
+val
+val
+bcc
+get
+prfreeif
+val
+fcc
+val
+mimedecodemimeheader
+fcc
+charset
+prfalse
+prtrue
+cfields
+setfcc
+nsconvertutftoucs
+val
+val
+fcc
+get
+prfreeif
+val
+newsgroups
+val
+mimedecodemimeheader
+newsgroups
+charset
+prfalse
+prtrue
+cfields
+setnewsgroups
+val
+val
+newsgroups
+prfreeif
+val
+followupto
+val
+mimedecodemimeheader
+followupto
+charset
+prfalse
+prtrue
+cfields
+setfollowupto
+val
+val
+followupto
+prfreeif
+val
+organization
+val
+mimedecodemimeheader
+organization
+charset
+prfalse
+prtrue
+cfields
+setorganization
+nsconvertutftoucs
+val
+val
+organization
+get
+prfreeif
+val
+references
+val
+mimedecodemimeheader
+references
+charset
+prfalse
+prtrue
+cfields
+setreferences
+val
+val
+references
+prfreeif
+val
+otherrandomheaders
+val
+mimedecodemimeheader
+otherrandomheaders
+charset
+prfalse
+prtrue
+cfields
+setotherrandomheaders
+nsconvertutftoucs
+val
+val
+otherrandomheaders
+get
+prfreeif
+val
+priority
+val
+mimedecodemimeheader
+priority
+charset
+prfalse
+prtrue
+cfields
+setpriority
+val
+val
+priority
+prfreeif
+val
+newsposturl
+val
+mimedecodemimeheader
+newsposturl
+charset
+prfalse
+prtrue
+cfields
+setnewsposturl
+val
+val
+newsposturl
+prfreeif
+val
+retval
+cfields
+nsifaddref
+retval
+rv
+prbool
+getmailxlateionpreference
+nsresult
+res
+prbool
+xlate
+prfalse
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefcid
+res
+nssucceeded
+res
+prefs
+res
+prefs
+getboolpref
+mail
+unknown
+xlate
+xlate
+prbool
+getmailsigningpreference
+nsresult
+res
+prbool
+signit
+prfalse
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefcid
+res
+nssucceeded
+res
+prefs
+res
+prefs
+getboolpref
+mail
+unknown
+signit
+signit
+dummyfilewrite
+buf
+print
+size
+filehandle
+filehandle
+nserrorfailure
+nsoutputfilestream
+tstream
+nsoutputfilestream
+filehandle
+tstream
+write
+buf
+size
+prcallback
+mimeparsestreamwrite
+nsmimesession
+stream
+buf
+print
+size
+mimedraftdata
+mdd
+mimedraftdata
+stream
+dataobject
+nsassertion
+mdd
+mime
+draft
+data
+mdd
+mdd
+obj
+mdd
+obj
+clazz
+parsebuffer
+buf
+size
+mdd
+obj
+mimefreeattachdata
+nsmsgattachmentdata
+attachdata
+nsmsgattachmentdata
+tmp
+attachdata
+tmp
+tmp
+realname
+tmp
+url
+tmp
+url
+tmp
+url
+nsnull
+prfreeif
+tmp
+realname
+prfreeif
+tmp
+desiredtype
+prfreeif
+tmp
+realtype
+prfreeif
+tmp
+realencoding
+prfreeif
+tmp
+description
+prfreeif
+tmp
+xmactype
+prfreeif
+tmp
+xmaccreator
+tmp
+mimefreeattachments
+nsmsgattachedfile
+attachments
+count
+nsmsgattachedfile
+cur
+attachments
+nsassertion
+attachments
+count
+freeing
+attachments
+but
+there
+aren
+any
+attachments
+count
+count
+cur
+cur
+origurl
+nsnull
+prfreeif
+cur
+type
+prfreeif
+cur
+encoding
+prfreeif
+cur
+description
+prfreeif
+cur
+xmactype
+prfreeif
+cur
+xmaccreator
+cur
+filespec
+cur
+filespec
+delete
+prfalse
+cur
+filespec
+prfreeif
+attachments
+nsmsgattachmentdata
+mimedraftprocessattachments
+mimedraftdata
+mdd
+mdd
+nsnull
+nsmsgattachmentdata
+attachdata
+tmp
+nsmsgattachedfile
+tmpfile
+prbool
+bodyasattachment
+prfalse
+mdd
+messagebody
+mdd
+messagebody
+type
+mdd
+messagebody
+type
+plstrcasestr
+mdd
+messagebody
+type
+text
+html
+nsnull
+plstrcasestr
+mdd
+messagebody
+type
+text
+plain
+nsnull
+plstrcasecmp
+mdd
+messagebody
+type
+text
+bodyasattachment
+prtrue
+mdd
+attachments
+mdd
+attachmentscount
+bodyasattachment
+nsnull
+print
+totalcount
+mdd
+attachmentscount
+bodyasattachment
+totalcount
+attachdata
+nsmsgattachmentdata
+prcalloc
+totalcount
+nsmsgattachmentdata
+attachdata
+nsnull
+bodyasattachment
+tmpfile
+mdd
+messagebody
+tmpfile
+mdd
+attachments
+tmp
+attachdata
+totalcount
+tmp
+tmpfile
+type
+nscrt
+strcasecmp
+tmpfile
+type
+text
+vcard
+nsmsgsacopy
+tmp
+realname
+tmpfile
+description
+tmpfile
+origurl
+nscautostring
+tmpspec
+nsfailed
+tmpfile
+origurl
+getspec
+tmpspec
+fail
+nsfailed
+nsmimenewuri
+tmp
+url
+tmpspec
+get
+nsnull
+fail
+nsaddref
+tmp
+url
+tmp
+realname
+tmpfile
+realname
+nsmsgsacopy
+tmp
+realname
+tmpfile
+realname
+nsmsgsacopy
+tmp
+realname
+tmpspec
+get
+tmpfile
+type
+nsmsgsacopy
+tmp
+desiredtype
+tmpfile
+type
+nsmsgsacopy
+tmp
+realtype
+tmpfile
+type
+tmpfile
+encoding
+nsmsgsacopy
+tmp
+realencoding
+tmpfile
+encoding
+tmpfile
+description
+nsmsgsacopy
+tmp
+description
+tmpfile
+description
+tmpfile
+xmactype
+nsmsgsacopy
+tmp
+xmactype
+tmpfile
+xmactype
+tmpfile
+xmaccreator
+nsmsgsacopy
+tmp
+xmaccreator
+tmpfile
+xmaccreator
+bodyasattachment
+tmpfile
+mdd
+attachments
+tmpfile
+attachdata
+fail
+mimefreeattachdata
+attachdata
+prfreeif
+attachdata
+nsnull
+mimefixuphtmladdress
+addr
+addr
+addr
+plstrchr
+addr
+plstrchr
+addr
+lt
+print
+newlen
+newlen
+strlen
+addr
+addr
+prrealloc
+addr
+newlen
+nsassertion
+addr
+out
+of
+memory
+fixing
+up
+html
+address
+lt
+plstrchr
+addr
+nsassertion
+lt
+couldn
+find
+in
+address
+memmove
+lt
+lt
+newlen
+lt
+addr
+lt
+lt
+lt
+lt
+plstrchr
+addr
+mimeintlinsertmessageheader
+body
+hdrvalue
+hdrstr
+htmlhdrstr
+mailcharset
+prbool
+htmledit
+body
+hdrvalue
+hdrstr
+htmledit
+nsmsgsacat
+body
+headerstartjunk
+nsmsgsacat
+body
+msglinebreak
+htmlhdrstr
+htmlhdrstr
+hdrstr
+nsmsgsacat
+body
+htmlhdrstr
+htmledit
+nsmsgsacat
+body
+headermiddlejunk
+nsmsgsacat
+body
+utf
+mimedecodemimeheader
+hdrvalue
+mailcharset
+prfalse
+prtrue
+utf
+nsmsgsacat
+body
+utf
+prfree
+utf
+nsmsgsacat
+body
+hdrvalue
+htmledit
+nsmsgsacat
+body
+headerendjunk
+mimegetnamedstring
+print
+id
+retstring
+retstring
+tstring
+mimegetstringbyid
+id
+tstring
+plstrncpy
+retstring
+tstring
+retstring
+prfree
+tstring
+retstring
+unquotemimeaddress
+nsimsgheaderparser
+parser
+address
+parser
+address
+address
+address
+result
+nssucceeded
+parser
+unquotephraseoraddr
+address
+prfalse
+result
+result
+result
+prfree
+address
+address
+result
+prfreeif
+result
+mimeinsertallheaders
+body
+mimeheaders
+headers
+msgcomposeformat
+composeformat
+mailcharset
+nscomptr
+nsimsgheaderparser
+parser
+dogetservice
+nsmailnewsmimeheaderparsercontractid
+prbool
+htmledit
+composeformat
+nsimsgcompformat
+html
+newbody
+htmltag
+nsnull
+body
+htmltag
+plstrcasestr
+body
+html
+headers
+donep
+mimeheadersbuildheadslist
+headers
+headers
+donep
+prtrue
+htmledit
+htmltag
+htmltag
+nsmsgsacopy
+newbody
+body
+htmltag
+nsmsgsacat
+newbody
+html
+br
+br
+nsmsgsacopy
+newbody
+html
+br
+br
+nsmsgsacat
+newbody
+mimegetnamedstring
+mimeforwardedmessagehtmluserwrote
+nsmsgsacat
+newbody
+mimeheadertable
+nsmsgsacopy
+newbody
+msglinebreak
+msglinebreak
+nsmsgsacat
+newbody
+mimegetnamedstring
+mimeforwardedmessagehtmluserwrote
+headers
+headssize
+head
+headers
+heads
+end
+headers
+headssize
+headers
+allheaders
+headers
+allheadersfp
+headers
+heads
+colon
+ocolon
+contents
+name
+head
+strncmp
+head
+from
+colon
+head
+contents
+colon
+colon
+head
+colon
+end
+colon
+colon
+colon
+end
+ocolon
+colon
+colon
+head
+nscrt
+isasciispace
+colon
+colon
+contents
+ocolon
+contents
+end
+nscrt
+isasciispace
+contents
+contents
+end
+contents
+nscrt
+isasciispace
+end
+end
+name
+prmalloc
+colon
+head
+name
+memcpy
+name
+head
+colon
+head
+name
+colon
+head
+prmalloc
+end
+contents
+prfree
+name
+memcpy
+contents
+end
+contents
+end
+contents
+nscrt
+strcasecmp
+name
+bcc
+htmledit
+mimefixuphtmladdress
+nscrt
+strcasecmp
+name
+resent
+from
+nscrt
+strcasecmp
+name
+from
+nscrt
+strcasecmp
+name
+resent
+to
+nscrt
+strcasecmp
+name
+to
+nscrt
+strcasecmp
+name
+resent
+cc
+nscrt
+strcasecmp
+name
+cc
+nscrt
+strcasecmp
+name
+reply
+to
+unquotemimeaddress
+parser
+mimeintlinsertmessageheader
+newbody
+name
+name
+mailcharset
+htmledit
+prfree
+name
+prfree
+htmledit
+nsmsgsacat
+newbody
+table
+nsmsgsacat
+newbody
+msglinebreak
+br
+br
+htmltag
+nsmsgsacat
+newbody
+htmltag
+body
+nsmsgsacat
+newbody
+body
+nsmsgsacat
+newbody
+msglinebreak
+msglinebreak
+body
+nsmsgsacat
+newbody
+body
+newbody
+prfreeif
+body
+body
+newbody
+mimeinsertnormalheaders
+body
+mimeheaders
+headers
+msgcomposeformat
+composeformat
+mailcharset
+newbody
+nsnull
+subject
+mimeheadersget
+headers
+headersubject
+prfalse
+prfalse
+resentcomments
+mimeheadersget
+headers
+headerresentcomments
+prfalse
+prfalse
+resentdate
+mimeheadersget
+headers
+headerresentdate
+prfalse
+prtrue
+resentfrom
+mimeheadersget
+headers
+headerresentfrom
+prfalse
+prtrue
+resentto
+mimeheadersget
+headers
+headerresentto
+prfalse
+prtrue
+resentcc
+mimeheadersget
+headers
+headerresentcc
+prfalse
+prtrue
+date
+mimeheadersget
+headers
+headerdate
+prfalse
+prtrue
+from
+mimeheadersget
+headers
+headerfrom
+prfalse
+prtrue
+replyto
+mimeheadersget
+headers
+headerreplyto
+prfalse
+prtrue
+organization
+mimeheadersget
+headers
+headerorganization
+prfalse
+prfalse
+to
+mimeheadersget
+headers
+headerto
+prfalse
+prtrue
+cc
+mimeheadersget
+headers
+headercc
+prfalse
+prtrue
+newsgroups
+mimeheadersget
+headers
+headernewsgroups
+prfalse
+prtrue
+followupto
+mimeheadersget
+headers
+headerfollowupto
+prfalse
+prtrue
+references
+mimeheadersget
+headers
+headerreferences
+prfalse
+prtrue
+htmltag
+nsnull
+body
+htmltag
+plstrcasestr
+body
+html
+prbool
+htmledit
+composeformat
+nsimsgcompformat
+html
+from
+from
+mimeheadersget
+headers
+headersender
+prfalse
+prtrue
+resentfrom
+resentfrom
+mimeheadersget
+headers
+headerresentsender
+prfalse
+prtrue
+nscomptr
+nsimsgheaderparser
+parser
+dogetservice
+nsmailnewsmimeheaderparsercontractid
+unquotemimeaddress
+parser
+resentfrom
+unquotemimeaddress
+parser
+resentto
+unquotemimeaddress
+parser
+resentcc
+unquotemimeaddress
+parser
+replyto
+unquotemimeaddress
+parser
+from
+unquotemimeaddress
+parser
+to
+unquotemimeaddress
+parser
+cc
+htmledit
+nsmsgsacopy
+newbody
+html
+br
+br
+nsmsgsacat
+newbody
+mimegetnamedstring
+mimeforwardedmessagehtmluserwrote
+nsmsgsacat
+newbody
+mimeheadertable
+nsmsgsacopy
+newbody
+msglinebreak
+msglinebreak
+nsmsgsacat
+newbody
+mimegetnamedstring
+mimeforwardedmessagehtmluserwrote
+subject
+mimeintlinsertmessageheader
+newbody
+subject
+headersubject
+mimegetnamedstring
+mimemhtmlsubject
+mailcharset
+htmledit
+resentcomments
+mimeintlinsertmessageheader
+newbody
+resentcomments
+headerresentcomments
+mimegetnamedstring
+mimemhtmlresentcomments
+mailcharset
+htmledit
+resentdate
+mimeintlinsertmessageheader
+newbody
+resentdate
+headerresentdate
+mimegetnamedstring
+mimemhtmlresentdate
+mailcharset
+htmledit
+resentfrom
+htmledit
+mimefixuphtmladdress
+resentfrom
+mimeintlinsertmessageheader
+newbody
+resentfrom
+headerresentfrom
+mimegetnamedstring
+mimemhtmlresentfrom
+mailcharset
+htmledit
+resentto
+htmledit
+mimefixuphtmladdress
+resentto
+mimeintlinsertmessageheader
+newbody
+resentto
+headerresentto
+mimegetnamedstring
+mimemhtmlresentto
+mailcharset
+htmledit
+resentcc
+htmledit
+mimefixuphtmladdress
+resentcc
+mimeintlinsertmessageheader
+newbody
+resentcc
+headerresentcc
+mimegetnamedstring
+mimemhtmlresentcc
+mailcharset
+htmledit
+date
+mimeintlinsertmessageheader
+newbody
+date
+headerdate
+mimegetnamedstring
+mimemhtmldate
+mailcharset
+htmledit
+from
+htmledit
+mimefixuphtmladdress
+from
+mimeintlinsertmessageheader
+newbody
+from
+headerfrom
+mimegetnamedstring
+mimemhtmlfrom
+mailcharset
+htmledit
+replyto
+htmledit
+mimefixuphtmladdress
+replyto
+mimeintlinsertmessageheader
+newbody
+replyto
+headerreplyto
+mimegetnamedstring
+mimemhtmlreplyto
+mailcharset
+htmledit
+organization
+mimeintlinsertmessageheader
+newbody
+organization
+headerorganization
+mimegetnamedstring
+mimemhtmlorganization
+mailcharset
+htmledit
+to
+htmledit
+mimefixuphtmladdress
+to
+mimeintlinsertmessageheader
+newbody
+to
+headerto
+mimegetnamedstring
+mimemhtmlto
+mailcharset
+htmledit
+cc
+htmledit
+mimefixuphtmladdress
+cc
+mimeintlinsertmessageheader
+newbody
+cc
+headercc
+mimegetnamedstring
+mimemhtmlcc
+mailcharset
+htmledit
+newsgroups
+mimeintlinsertmessageheader
+newbody
+newsgroups
+headernewsgroups
+mimegetnamedstring
+mimemhtmlnewsgroups
+mailcharset
+htmledit
+followupto
+htmledit
+mimefixuphtmladdress
+followupto
+mimeintlinsertmessageheader
+newbody
+followupto
+headerfollowupto
+mimegetnamedstring
+mimemhtmlfollowupto
+mailcharset
+htmledit
+references
+htmledit
+mimefixuphtmladdress
+references
+mimeintlinsertmessageheader
+newbody
+references
+headerreferences
+mimegetnamedstring
+mimemhtmlreferences
+mailcharset
+htmledit
+htmledit
+nsmsgsacat
+newbody
+table
+nsmsgsacat
+newbody
+msglinebreak
+br
+br
+htmltag
+nsmsgsacat
+newbody
+htmltag
+body
+nsmsgsacat
+newbody
+body
+nsmsgsacat
+newbody
+msglinebreak
+msglinebreak
+body
+nsmsgsacat
+newbody
+body
+newbody
+prfreeif
+body
+body
+newbody
+prfreeif
+subject
+prfreeif
+resentcomments
+prfreeif
+resentdate
+prfreeif
+resentfrom
+prfreeif
+resentto
+prfreeif
+resentcc
+prfreeif
+date
+prfreeif
+from
+prfreeif
+replyto
+prfreeif
+organization
+prfreeif
+to
+prfreeif
+cc
+prfreeif
+newsgroups
+prfreeif
+followupto
+prfreeif
+references
+mimeinsertmicroheaders
+body
+mimeheaders
+headers
+msgcomposeformat
+composeformat
+mailcharset
+newbody
+subject
+mimeheadersget
+headers
+headersubject
+prfalse
+prfalse
+from
+mimeheadersget
+headers
+headerfrom
+prfalse
+prtrue
+resentfrom
+mimeheadersget
+headers
+headerresentfrom
+prfalse
+prtrue
+date
+mimeheadersget
+headers
+headerdate
+prfalse
+prtrue
+to
+mimeheadersget
+headers
+headerto
+prfalse
+prtrue
+cc
+mimeheadersget
+headers
+headercc
+prfalse
+prtrue
+newsgroups
+mimeheadersget
+headers
+headernewsgroups
+prfalse
+prtrue
+htmltag
+nsnull
+body
+htmltag
+plstrcasestr
+body
+html
+prbool
+htmledit
+composeformat
+nsimsgcompformat
+html
+from
+from
+mimeheadersget
+headers
+headersender
+prfalse
+prtrue
+resentfrom
+resentfrom
+mimeheadersget
+headers
+headerresentsender
+prfalse
+prtrue
+date
+date
+mimeheadersget
+headers
+headerresentdate
+prfalse
+prtrue
+nscomptr
+nsimsgheaderparser
+parser
+dogetservice
+nsmailnewsmimeheaderparsercontractid
+unquotemimeaddress
+parser
+resentfrom
+unquotemimeaddress
+parser
+from
+unquotemimeaddress
+parser
+to
+unquotemimeaddress
+parser
+cc
+htmledit
+nsmsgsacopy
+newbody
+html
+br
+br
+nsmsgsacat
+newbody
+mimegetnamedstring
+mimeforwardedmessagehtmluserwrote
+nsmsgsacat
+newbody
+mimeheadertable
+nsmsgsacopy
+newbody
+msglinebreak
+msglinebreak
+nsmsgsacat
+newbody
+mimegetnamedstring
+mimeforwardedmessagehtmluserwrote
+from
+htmledit
+mimefixuphtmladdress
+from
+mimeintlinsertmessageheader
+newbody
+from
+headerfrom
+mimegetnamedstring
+mimemhtmlfrom
+mailcharset
+htmledit
+subject
+mimeintlinsertmessageheader
+newbody
+subject
+headersubject
+mimegetnamedstring
+mimemhtmlsubject
+mailcharset
+htmledit
+resentfrom
+htmledit
+mimefixuphtmladdress
+resentfrom
+mimeintlinsertmessageheader
+newbody
+resentfrom
+headerresentfrom
+mimegetnamedstring
+mimemhtmlresentfrom
+mailcharset
+htmledit
+to
+htmledit
+mimefixuphtmladdress
+to
+mimeintlinsertmessageheader
+newbody
+to
+headerto
+mimegetnamedstring
+mimemhtmlto
+mailcharset
+htmledit
+cc
+htmledit
+mimefixuphtmladdress
+cc
+mimeintlinsertmessageheader
+newbody
+cc
+headercc
+mimegetnamedstring
+mimemhtmlcc
+mailcharset
+htmledit
+newsgroups
+mimeintlinsertmessageheader
+newbody
+newsgroups
+headernewsgroups
+mimegetnamedstring
+mimemhtmlnewsgroups
+mailcharset
+htmledit
+htmledit
+nsmsgsacat
+newbody
+table
+nsmsgsacat
+newbody
+msglinebreak
+br
+br
+htmltag
+nsmsgsacat
+newbody
+htmltag
+body
+nsmsgsacat
+newbody
+body
+nsmsgsacat
+newbody
+msglinebreak
+msglinebreak
+body
+nsmsgsacat
+newbody
+body
+newbody
+prfreeif
+body
+body
+newbody
+prfreeif
+subject
+prfreeif
+from
+prfreeif
+resentfrom
+prfreeif
+date
+prfreeif
+to
+prfreeif
+cc
+prfreeif
+newsgroups
+mimeinsertforwardedmessageheaders
+body
+mimeheaders
+headers
+msgcomposeformat
+composeformat
+mailcharset
+body
+headers
+print
+showheaders
+nsresult
+res
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefcid
+res
+nssucceeded
+res
+prefs
+res
+prefs
+getintpref
+mail
+showheaders
+showheaders
+showheaders
+mimeinsertmicroheaders
+body
+headers
+composeformat
+mailcharset
+mimeinsertnormalheaders
+body
+headers
+composeformat
+mailcharset
+mimeinsertallheaders
+body
+headers
+composeformat
+mailcharset
+prcallback
+mimeparsestreamcomplete
+nsmimesession
+stream
+mimedraftdata
+mdd
+mimedraftdata
+stream
+dataobject
+nscomptr
+nsimsgcompfields
+fields
+htmlaction
+linewidth
+host
+newshost
+toandcc
+resubject
+newrefs
+from
+repl
+subj
+id
+refs
+to
+cc
+bcc
+fcc
+grps
+foll
+priority
+draftinfo
+identitykey
+prbool
+xlatep
+prfalse
+prbool
+signp
+prfalse
+prbool
+forwardinline
+prfalse
+prbool
+bodyasattachment
+prfalse
+prbool
+charsetoverride
+prfalse
+nsassertion
+mdd
+mime
+draft
+data
+mdd
+mdd
+obj
+status
+status
+mdd
+obj
+clazz
+parseeof
+mdd
+obj
+prfalse
+mdd
+obj
+clazz
+parseend
+mdd
+obj
+status
+prtrue
+prfalse
+xlatep
+mdd
+options
+decryptp
+signp
+mdd
+options
+signedp
+forwardinline
+mdd
+forwardinline
+forwardinline
+ifdef
+mozsecurity
+hg
+endif
+nsassertion
+mdd
+options
+mdd
+obj
+options
+mime
+draft
+options
+same
+as
+obj
+options
+mimefree
+mdd
+obj
+mdd
+obj
+mdd
+options
+charsetoverride
+mdd
+options
+overridecharset
+mdd
+mailcharset
+charsetoverride
+mdd
+options
+defaultcharset
+prfree
+mdd
+mailcharset
+mdd
+mailcharset
+nscrt
+strdup
+mdd
+options
+defaultcharset
+mdd
+options
+mdd
+options
+mdd
+stream
+mdd
+stream
+complete
+nsmimesession
+mdd
+stream
+dataobject
+prfree
+mdd
+stream
+mdd
+stream
+nsmsgattachmentdata
+newattachdata
+mimedraftprocessattachments
+mdd
+mdd
+headers
+subj
+mimeheadersget
+mdd
+headers
+headersubject
+prfalse
+prfalse
+forwardinline
+subj
+newsubj
+prsmprintf
+fwd
+subj
+newsubj
+prfree
+subj
+subj
+newsubj
+repl
+mimeheadersget
+mdd
+headers
+headerreplyto
+prfalse
+prfalse
+to
+mimeheadersget
+mdd
+headers
+headerto
+prfalse
+prtrue
+cc
+mimeheadersget
+mdd
+headers
+headercc
+prfalse
+prtrue
+bcc
+mimeheadersget
+mdd
+headers
+headerbcc
+prfalse
+prtrue
+grps
+mimeheadersget
+mdd
+headers
+headernewsgroups
+prfalse
+prtrue
+foll
+mimeheadersget
+mdd
+headers
+headerfollowupto
+prfalse
+prtrue
+host
+mimeheadersget
+mdd
+headers
+headerxmozillanewshost
+prfalse
+prfalse
+host
+host
+mimeheadersget
+mdd
+headers
+headernntppostinghost
+prfalse
+prfalse
+id
+mimeheadersget
+mdd
+headers
+headermessageid
+prfalse
+prfalse
+refs
+mimeheadersget
+mdd
+headers
+headerreferences
+prfalse
+prtrue
+priority
+mimeheadersget
+mdd
+headers
+headerxpriority
+prfalse
+prfalse
+host
+secure
+secure
+plstrcasestr
+host
+secure
+secure
+secure
+newshost
+prsmprintf
+snews
+host
+newshost
+prsmprintf
+news
+host
+createcompositionfields
+from
+repl
+to
+cc
+bcc
+fcc
+grps
+foll
+subj
+refs
+priority
+newshost
+xlatep
+signp
+mdd
+mailcharset
+getteraddrefs
+fields
+draftinfo
+mimeheadersget
+mdd
+headers
+headerxmozilladraftinfo
+prfalse
+prfalse
+draftinfo
+fields
+forwardinline
+parm
+parm
+mimeheadersgetparameter
+draftinfo
+vcard
+fields
+setattachvcard
+parm
+nscrt
+strcmp
+parm
+prfreeif
+parm
+parm
+mimeheadersgetparameter
+draftinfo
+receipt
+parm
+nscrt
+strcmp
+parm
+fields
+setreturnreceipt
+prfalse
+receipttype
+fields
+setreturnreceipt
+prtrue
+sscanf
+parm
+receipttype
+fields
+setreceiptheadertype
+print
+receipttype
+prfreeif
+parm
+parm
+mimeheadersgetparameter
+draftinfo
+uuencode
+fields
+setuuencodeattachments
+parm
+nscrt
+strcmp
+parm
+prfreeif
+parm
+parm
+mimeheadersgetparameter
+draftinfo
+html
+parm
+sscanf
+parm
+htmlaction
+prfreeif
+parm
+parm
+mimeheadersgetparameter
+draftinfo
+linewidth
+parm
+sscanf
+parm
+linewidth
+prfreeif
+parm
+identitykey
+mimeheadersget
+mdd
+headers
+headerxmozillaidentitykey
+prfalse
+prfalse
+identitykey
+identitykey
+nsresult
+rv
+nsok
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nssucceeded
+rv
+accountmanager
+nscomptr
+nsimsgidentity
+overrulingidentity
+rv
+accountmanager
+getidentity
+identitykey
+getteraddrefs
+overrulingidentity
+nssucceeded
+rv
+overrulingidentity
+mdd
+identity
+overrulingidentity
+mdd
+messagebody
+msgcomposeformat
+composeformat
+nsimsgcompformat
+default
+mdd
+messagebody
+type
+mdd
+messagebody
+type
+plstrcasestr
+mdd
+messagebody
+type
+text
+html
+composeformat
+nsimsgcompformat
+html
+plstrcasestr
+mdd
+messagebody
+type
+text
+plain
+plstrcasecmp
+mdd
+messagebody
+type
+text
+composeformat
+nsimsgcompformat
+plaintext
+bodyasattachment
+prtrue
+composeformat
+nsimsgcompformat
+plaintext
+body
+nsnull
+pruint
+bodylen
+bodyasattachment
+bodylen
+mdd
+messagebody
+filespec
+getfilesize
+body
+prmalloc
+bodylen
+body
+memset
+body
+bodylen
+nsinputfilestream
+inputfile
+mdd
+messagebody
+filespec
+inputfile
+isopen
+inputfile
+read
+body
+bodylen
+inputfile
+close
+mimecharset
+nsnull
+charsetoverride
+mimecharset
+mimeheadersgetparameter
+mdd
+messagebody
+type
+charset
+nsnull
+nsnull
+bodycharset
+mimecharset
+mimecharset
+mdd
+mailcharset
+bodycharset
+nsautostring
+tempunicodestring
+nssucceeded
+converttounicode
+bodycharset
+body
+tempunicodestring
+newbody
+tonewutfstring
+tempunicodestring
+newbody
+prfree
+body
+body
+newbody
+bodylen
+strlen
+newbody
+prfreeif
+mimecharset
+forwardinline
+mdd
+identity
+prbool
+bformat
+mdd
+identity
+getcomposehtml
+bformat
+bformat
+body
+composeformat
+nsimsgcompformat
+plaintext
+escapedbody
+nsescapehtml
+body
+escapedbody
+prfree
+body
+body
+escapedbody
+bodylen
+strlen
+body
+newbody
+prmalloc
+bodylen
+newbody
+newbody
+plstrcat
+newbody
+pre
+plstrcat
+newbody
+body
+plstrcat
+newbody
+pre
+prfree
+body
+body
+newbody
+composeformat
+nsimsgcompformat
+html
+mimeinsertforwardedmessageheaders
+body
+mdd
+headers
+composeformat
+mdd
+mailcharset
+body
+fields
+setbody
+nsconvertutftoucs
+body
+get
+prfree
+body
+mdd
+formatout
+nsmimeoutput
+nsmimemessageeditortemplate
+ifdef
+nsdebug
+printf
+richie
+time
+to
+create
+the
+editor
+with
+has
+body
+endif
+createthecomposewindow
+fields
+newattachdata
+nsimsgcomptype
+template
+composeformat
+mdd
+identity
+nsnull
+ifdef
+nsdebug
+printf
+time
+to
+create
+the
+composition
+window
+with
+body
+endif
+mdd
+forwardinline
+createthecomposewindow
+fields
+newattachdata
+nsimsgcomptype
+forwardinline
+composeformat
+mdd
+identity
+mdd
+originalmsguri
+fields
+setdraftid
+mdd
+urlname
+createthecomposewindow
+fields
+newattachdata
+nsimsgcomptype
+draft
+composeformat
+mdd
+identity
+nsnull
+mdd
+formatout
+nsmimeoutput
+nsmimemessageeditortemplate
+ifdef
+nsdebug
+printf
+richie
+time
+to
+create
+the
+editor
+with
+no
+body
+endif
+createthecomposewindow
+fields
+newattachdata
+nsimsgcomptype
+template
+nsimsgcompformat
+default
+mdd
+identity
+nsnull
+ifdef
+nsdebug
+printf
+time
+to
+create
+the
+composition
+window
+without
+body
+endif
+mdd
+forwardinline
+createthecomposewindow
+fields
+newattachdata
+nsimsgcomptype
+forwardinline
+nsimsgcompformat
+default
+mdd
+identity
+mdd
+originalmsguri
+fields
+setdraftid
+mdd
+urlname
+createthecomposewindow
+fields
+newattachdata
+nsimsgcomptype
+draft
+nsimsgcompformat
+default
+mdd
+identity
+nsnull
+createcompositionfields
+from
+repl
+to
+cc
+bcc
+fcc
+grps
+foll
+subj
+refs
+priority
+newshost
+getmailxlateionpreference
+getmailsigningpreference
+mdd
+mailcharset
+getteraddrefs
+fields
+fields
+createthecomposewindow
+fields
+newattachdata
+nsimsgcomptype
+new
+nsimsgcompformat
+default
+mdd
+identity
+nsnull
+mdd
+headers
+mimeheadersfree
+mdd
+headers
+bodyasattachment
+mdd
+messagebody
+filespec
+mdd
+messagebody
+filespec
+mdd
+messagebody
+filespec
+nsnull
+mimefreeattachments
+mdd
+messagebody
+mdd
+attachments
+nsmsgattachedfile
+cur
+mdd
+attachments
+mdd
+attachmentscount
+cur
+cur
+filespec
+cur
+filespec
+cur
+filespec
+nsnull
+mimefreeattachments
+mdd
+attachments
+mdd
+attachmentscount
+prfreeif
+mdd
+mailcharset
+mimeobject
+obj
+mdd
+mdd
+obj
+obj
+obj
+options
+obj
+options
+prefs
+nsservicemanager
+releaseservice
+kprefcid
+obj
+options
+prefs
+mdd
+identity
+nsnull
+prfree
+mdd
+urlname
+prfree
+mdd
+originalmsguri
+prfree
+mdd
+prfreeif
+host
+prfreeif
+toandcc
+prfreeif
+resubject
+prfreeif
+newrefs
+prfreeif
+from
+prfreeif
+repl
+prfreeif
+subj
+prfreeif
+id
+prfreeif
+refs
+prfreeif
+to
+prfreeif
+cc
+prfreeif
+grps
+prfreeif
+foll
+prfreeif
+priority
+prfreeif
+draftinfo
+prfree
+identitykey
+mimefreeattachdata
+newattachdata
+prcallback
+mimeparsestreamabort
+nsmimesession
+stream
+status
+mimedraftdata
+mdd
+mimedraftdata
+stream
+dataobject
+nsassertion
+mdd
+mime
+draft
+data
+mdd
+mdd
+obj
+status
+mdd
+obj
+closedp
+status
+mdd
+obj
+clazz
+parseeof
+mdd
+obj
+prtrue
+mdd
+obj
+parsedp
+mdd
+obj
+clazz
+parseend
+mdd
+obj
+prtrue
+nsassertion
+mdd
+options
+mdd
+obj
+options
+draft
+display
+options
+same
+as
+mime
+obj
+mimefree
+mdd
+obj
+mdd
+obj
+mdd
+options
+mdd
+options
+mdd
+options
+mdd
+stream
+mdd
+stream
+abort
+nsmimesession
+mdd
+stream
+dataobject
+status
+prfree
+mdd
+stream
+mdd
+stream
+mdd
+headers
+mimeheadersfree
+mdd
+headers
+mdd
+attachments
+mimefreeattachments
+mdd
+attachments
+mdd
+attachmentscount
+prfreeif
+mdd
+mailcharset
+prfree
+mdd
+makemimeheaderscopy
+closure
+mimeheaders
+headers
+mimedraftdata
+mdd
+mimedraftdata
+closure
+nsassertion
+mdd
+headers
+mime
+draft
+data
+headers
+mdd
+headers
+nsassertion
+mdd
+headers
+non
+mime
+draft
+data
+headers
+mdd
+headers
+mimeheaderscopy
+headers
+mdd
+options
+doneparsingouterheaders
+prtrue
+nsresult
+mimedecomposefileinitfn
+streamclosure
+mimeheaders
+headers
+mimedraftdata
+mdd
+mimedraftdata
+streamclosure
+nsmsgattachedfile
+attachments
+newattachment
+nattachments
+parmvalue
+prbool
+needurl
+prfalse
+prbool
+creatingmsgbody
+prtrue
+prbool
+bodypart
+prfalse
+nsassertion
+mdd
+headers
+mime
+draft
+data
+headers
+mdd
+headers
+mdd
+options
+decomposeinitcount
+mdd
+options
+decomposeinitcount
+nsassertion
+mdd
+curattachment
+missing
+attachment
+in
+mimedecomposefileinitfn
+mdd
+curattachment
+ct
+mimeheadersget
+headers
+headercontenttype
+prtrue
+prfalse
+ct
+nsmsgsacopy
+mdd
+curattachment
+type
+ct
+prfreeif
+ct
+mdd
+options
+decomposeinitcount
+nattachments
+mdd
+attachmentscount
+nattachments
+mdd
+messagebody
+mdd
+options
+mdd
+options
+overridecharset
+mdd
+mailcharset
+nscrt
+strdup
+mdd
+options
+defaultcharset
+contenttype
+contenttype
+mimeheadersget
+headers
+headercontenttype
+prfalse
+prfalse
+contenttype
+mdd
+mailcharset
+mimeheadersgetparameter
+contenttype
+charset
+prfreeif
+contenttype
+mdd
+messagebody
+prnewzap
+nsmsgattachedfile
+nsassertion
+mdd
+messagebody
+missing
+messagebody
+in
+mimedecomposefileinitfn
+mdd
+messagebody
+mimeoutofmemory
+newattachment
+mdd
+messagebody
+creatingmsgbody
+prtrue
+bodypart
+prtrue
+needurl
+prtrue
+nattachments
+nsassertion
+mdd
+attachments
+no
+attachments
+attachments
+nsmsgattachedfile
+prrealloc
+mdd
+attachments
+nsmsgattachedfile
+nattachments
+attachments
+mimeoutofmemory
+mdd
+attachments
+attachments
+mdd
+attachmentscount
+nsassertion
+mdd
+attachments
+have
+attachments
+but
+count
+is
+attachments
+nsmsgattachedfile
+prmalloc
+nsmsgattachedfile
+attachments
+mimeoutofmemory
+mdd
+attachmentscount
+mdd
+attachments
+attachments
+newattachment
+attachments
+nattachments
+memset
+newattachment
+nsmsgattachedfile
+workurlspec
+nsnull
+contloc
+nsnull
+newattachment
+realname
+mimeheadersgetname
+headers
+mdd
+options
+contloc
+mimeheadersget
+headers
+headercontentlocation
+prfalse
+prfalse
+contloc
+contloc
+mimeheadersget
+headers
+headercontentbase
+prfalse
+prfalse
+contloc
+newattachment
+realname
+workurlspec
+nscrt
+strdup
+newattachment
+realname
+contloc
+workurlspec
+workurlspec
+nscrt
+strdup
+contloc
+prfreeif
+contloc
+mdd
+curattachment
+newattachment
+newattachment
+type
+mimeheadersget
+headers
+headercontenttype
+prfalse
+prfalse
+plstrstr
+newattachment
+type
+messagerfc
+newname
+prsmprintf
+eml
+newattachment
+realname
+newname
+prfree
+newattachment
+realname
+newattachment
+realname
+newname
+parmvalue
+mimeheadersget
+headers
+headercontenttype
+prfalse
+prfalse
+parmvalue
+boundary
+tmpvalue
+boundary
+mimeheadersgetparameter
+parmvalue
+boundary
+boundary
+tmpvalue
+prsmprintf
+boundary
+boundary
+tmpvalue
+nsmsgsacat
+newattachment
+type
+tmpvalue
+newattachment
+xmactype
+mimeheadersgetparameter
+parmvalue
+mac
+type
+newattachment
+xmaccreator
+mimeheadersgetparameter
+parmvalue
+mac
+creator
+prfreeif
+parmvalue
+prfreeif
+boundary
+prfreeif
+tmpvalue
+newattachment
+encoding
+mimeheadersget
+headers
+headercontenttransferencoding
+prfalse
+prfalse
+newattachment
+description
+mimeheadersget
+headers
+headercontentdescription
+prfalse
+prfalse
+newattachment
+description
+newattachment
+description
+workurlspec
+newattachment
+description
+nscrt
+strdup
+workurlspec
+nsfilespec
+tmpspec
+nsnull
+nscautostring
+newattachname
+nsmail
+prbool
+extensionadded
+prfalse
+nscautostring
+contenttype
+newattachment
+type
+print
+pos
+contenttype
+findchar
+pos
+contenttype
+truncate
+pos
+nsresult
+rv
+nsok
+nscomptr
+nsimimeservice
+mimefinder
+dogetservice
+nsmimeservicecontractid
+rv
+nssucceeded
+rv
+mimefinder
+nscomptr
+nsimimeinfo
+mimeinfo
+nsnull
+rv
+mimefinder
+getfrommimetype
+contenttype
+get
+getteraddrefs
+mimeinfo
+nssucceeded
+rv
+mimeinfo
+nsxpidlcstring
+fileextension
+nssucceeded
+mimeinfo
+getprimaryextension
+gettercopies
+fileextension
+fileextension
+newattachname
+append
+newattachname
+append
+fileextension
+extensionadded
+prtrue
+extensionadded
+newattachname
+append
+tmp
+tmpspec
+nsmsgcreatetempfilespec
+nsconstcast
+newattachname
+get
+tmpspec
+nsfileurl
+fileurl
+tmpspec
+tempspecstr
+fileurl
+geturlstring
+nsmimenewuri
+getteraddrefs
+newattachment
+origurl
+tempspecstr
+nsnull
+prfreeif
+workurlspec
+tmpspec
+mimeoutofmemory
+nsnewfilespecwithspec
+tmpspec
+mdd
+tmpfilespec
+mdd
+tmpfilespec
+mimeoutofmemory
+newattachment
+filespec
+tmpspec
+mdd
+tmpfilestream
+nsoutputfilestream
+tmpspec
+prwronly
+prcreatefile
+mdd
+tmpfilestream
+mimeunabletoopentmpfile
+creatingmsgbody
+mimedecoderdata
+fn
+nsresult
+print
+newattachment
+encoding
+nscrt
+strcasecmp
+newattachment
+encoding
+encodingbase
+fn
+mimebdecoderinit
+nscrt
+strcasecmp
+newattachment
+encoding
+encodingquotedprintable
+fn
+mimeqpdecoderinit
+nscrt
+strcasecmp
+newattachment
+encoding
+encodinguuencode
+nscrt
+strcasecmp
+newattachment
+encoding
+encodinguuencode
+nscrt
+strcasecmp
+newattachment
+encoding
+encodinguuencode
+nscrt
+strcasecmp
+newattachment
+encoding
+encodinguuencode
+fn
+mimeuudecoderinit
+nscrt
+strcasecmp
+newattachment
+encoding
+encodingyencode
+fn
+mimeydecoderinit
+fn
+mdd
+decoderdata
+fn
+nsresult
+print
+dummyfilewrite
+mdd
+tmpfilestream
+mdd
+decoderdata
+mimeoutofmemory
+nsresult
+mimedecomposefileoutputfn
+buf
+print
+size
+streamclosure
+mimedraftdata
+mdd
+mimedraftdata
+streamclosure
+ret
+nsassertion
+mdd
+buf
+missing
+mime
+draft
+data
+buf
+mdd
+buf
+size
+mdd
+tmpfilestream
+mdd
+decoderdata
+ret
+mimedecoderwrite
+mdd
+decoderdata
+buf
+size
+ret
+ret
+mdd
+tmpfilestream
+write
+buf
+size
+ret
+size
+mimeerrorwritingfile
+nsresult
+mimedecomposefileclosefn
+streamclosure
+mimedraftdata
+mdd
+mimedraftdata
+streamclosure
+mdd
+mdd
+tmpfilestream
+mdd
+options
+decomposeinitcount
+mdd
+decoderdata
+mimedecoderdestroy
+mdd
+decoderdata
+prfalse
+mdd
+decoderdata
+mdd
+tmpfilestream
+getistream
+mdd
+tmpfilestream
+close
+mdd
+tmpfilestream
+mdd
+tmpfilestream
+nsnull
+mdd
+tmpfilespec
+mdd
+tmpfilespec
+nsnull
+mimebridgecreatedraftstream
+nsimimeemitter
+newemitter
+nsstreamconverter
+newpluginobj
+nsiuri
+uri
+nsmimeoutputtype
+formatout
+status
+nsmimesession
+stream
+nsnull
+mimedraftdata
+mdd
+nsnull
+mimeobject
+obj
+nsnull
+uri
+nsnull
+mdd
+prnewzap
+mimedraftdata
+mdd
+nsnull
+nscautostring
+turl
+nscomptr
+nsimsgmessageservice
+msgservice
+nscomptr
+nsiuri
+aurl
+nscautostring
+urlstring
+nsresult
+rv
+nsfailed
+uri
+getspec
+turl
+fail
+rv
+getmessageservicefromuri
+turl
+get
+getteraddrefs
+msgservice
+nsfailed
+rv
+fail
+rv
+msgservice
+geturlforuri
+turl
+get
+getteraddrefs
+aurl
+nsnull
+nsfailed
+rv
+fail
+nssucceeded
+aurl
+getspec
+urlstring
+mdd
+urlname
+tonewcstring
+urlstring
+mdd
+urlname
+fail
+newpluginobj
+getforwardinline
+mdd
+forwardinline
+newpluginobj
+getidentity
+getteraddrefs
+mdd
+identity
+newpluginobj
+getoriginalmsguri
+mdd
+originalmsguri
+mdd
+formatout
+formatout
+mdd
+options
+mimedisplayoptions
+mdd
+options
+fail
+mdd
+options
+url
+nscrt
+strdup
+mdd
+urlname
+mdd
+options
+formatout
+formatout
+mdd
+options
+decomposefilep
+prtrue
+mdd
+options
+streamclosure
+mdd
+mdd
+options
+htmlclosure
+mdd
+mdd
+options
+decomposeheadersinfofn
+makemimeheaderscopy
+mdd
+options
+decomposefileinitfn
+mimedecomposefileinitfn
+mdd
+options
+decomposefileoutputfn
+mimedecomposefileoutputfn
+mdd
+options
+decomposefileclosefn
+mimedecomposefileclosefn
+rv
+nsservicemanager
+getservice
+kprefcid
+nsgetiid
+nsipref
+nsisupports
+mdd
+options
+prefs
+mdd
+options
+prefs
+nssucceeded
+rv
+fail
+ifdef
+enablesmime
+mdd
+options
+decryptp
+prtrue
+endif
+obj
+mimenew
+mimeobjectclass
+mimemessageclass
+mimeheaders
+messagerfc
+obj
+fail
+obj
+options
+mdd
+options
+mdd
+obj
+obj
+stream
+prnewzap
+nsmimesession
+stream
+fail
+stream
+name
+mime
+to
+draft
+converter
+stream
+stream
+complete
+mimeparsestreamcomplete
+stream
+abort
+mimeparsestreamabort
+stream
+putblock
+mimeparsestreamwrite
+stream
+dataobject
+mdd
+status
+obj
+clazz
+initialize
+obj
+status
+status
+obj
+clazz
+parsebegin
+obj
+status
+fail
+stream
+fail
+mdd
+prfree
+mdd
+urlname
+prfree
+mdd
+originalmsguri
+mdd
+options
+mdd
+options
+prfree
+mdd
+prfree
+stream
+prfree
+obj
+nsnull nsresult
\ No newline at end of file
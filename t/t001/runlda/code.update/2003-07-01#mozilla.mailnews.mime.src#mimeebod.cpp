@@ -0,0 +1,836 @@
+nscomptr
+nsiurl
+mimeebod
+prmem
+nscrt
+plstr
+prlog
+prio
+nsfilespec
+nsescape
+msgcore
+nsmimestringresources
+mimemoz
+define
+mimesuperclass
+mimeobjectclass
+mimedefclass
+mimeexternalbody
+mimeexternalbodyclass
+mimeexternalbodyclass
+mimesuperclass
+defined
+xpmac
+defined
+xpmacosx
+mimeobjectclass
+mimemultipartappledoubleclass
+endif
+mimeexternalbodyinitialize
+mimeobject
+mimeexternalbodyfinalize
+mimeobject
+mimeexternalbodyparseline
+print
+mimeobject
+mimeexternalbodyparseeof
+mimeobject
+prbool
+prbool
+mimeexternalbodydisplayableinlinep
+mimeobjectclass
+clazz
+mimeheaders
+hdrs
+defined
+debug
+defined
+xpunix
+mimeexternalbodydebugprint
+mimeobject
+prfiledesc
+print
+endif
+endif
+mimeexternalbodyclassinitialize
+mimeexternalbodyclass
+clazz
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+nsassertion
+oclass
+classinitialized
+rhp
+netscape
+mar
+oclass
+initialize
+mimeexternalbodyinitialize
+oclass
+finalize
+mimeexternalbodyfinalize
+oclass
+parseline
+mimeexternalbodyparseline
+oclass
+parseeof
+mimeexternalbodyparseeof
+oclass
+displayableinlinep
+mimeexternalbodydisplayableinlinep
+defined
+debug
+defined
+xpunix
+oclass
+debugprint
+mimeexternalbodydebugprint
+endif
+endif
+mimeexternalbodyinitialize
+mimeobject
+object
+mimeobjectclass
+mimesuperclass
+initialize
+object
+mimeexternalbodyfinalize
+mimeobject
+object
+mimeexternalbody
+bod
+mimeexternalbody
+object
+bod
+hdrs
+mimeheadersfree
+bod
+hdrs
+bod
+hdrs
+prfreeif
+bod
+body
+mimeobjectclass
+mimesuperclass
+finalize
+object
+mimeexternalbodyparseline
+line
+print
+length
+mimeobject
+obj
+mimeexternalbody
+bod
+mimeexternalbody
+obj
+status
+nsassertion
+line
+line
+rhp
+netscape
+mar
+line
+line
+obj
+outputp
+obj
+options
+obj
+options
+writehtmlp
+obj
+options
+outputfn
+mimeobjectwrite
+obj
+line
+length
+prtrue
+bod
+body
+strlen
+bod
+body
+newstr
+prrealloc
+bod
+body
+length
+newstr
+mimeoutofmemory
+bod
+body
+newstr
+memcpy
+bod
+body
+line
+length
+bod
+body
+length
+bod
+hdrs
+bod
+hdrs
+mimeheadersnew
+bod
+hdrs
+mimeoutofmemory
+status
+mimeheadersparseline
+line
+length
+bod
+hdrs
+status
+status
+line
+nscrt
+cr
+line
+nscrt
+lf
+bod
+body
+nscrt
+strdup
+bod
+body
+mimeoutofmemory
+mimeexternalbodymakeurl
+ct
+at
+lexp
+size
+perm
+dir
+mode
+name
+url
+site
+svr
+subj
+body
+at
+nscrt
+strcasecmp
+at
+ftp
+nscrt
+strcasecmp
+at
+anon
+ftp
+site
+name
+prmalloc
+strlen
+name
+strlen
+site
+dir
+strlen
+dir
+plstrcpy
+ftp
+plstrcat
+site
+plstrcat
+dir
+plstrcat
+dir
+dir
+dir
+strlen
+plstrcat
+plstrcat
+name
+nscrt
+strcasecmp
+at
+local
+file
+nscrt
+strcasecmp
+at
+afs
+name
+ifdef
+xpunix
+nscrt
+strcasecmp
+at
+afs
+nsfilespec
+fs
+afs
+fs
+exists
+endif
+prmalloc
+strlen
+name
+plstrcpy
+file
+nsescape
+name
+urlpath
+plstrcat
+nscrt
+free
+nscrt
+strcasecmp
+at
+mail
+server
+svr
+prmalloc
+strlen
+svr
+subj
+strlen
+subj
+body
+strlen
+body
+plstrcpy
+mailto
+nsescape
+svr
+urlxalphas
+plstrcat
+nscrt
+free
+subj
+nsescape
+subj
+urlxalphas
+plstrcat
+subject
+plstrcat
+nscrt
+free
+body
+nsescape
+body
+urlxalphas
+plstrcat
+subj
+body
+body
+plstrcat
+nscrt
+free
+nscrt
+strcasecmp
+at
+url
+url
+nscrt
+strdup
+url
+ifdef
+xpmac
+ifdef
+debug
+pragma
+globaloptimizer
+on
+pragma
+optimizationlevel
+endif
+endif
+mimeexternalbodyparseeof
+mimeobject
+obj
+prbool
+abortp
+status
+mimeexternalbody
+bod
+mimeexternalbody
+obj
+obj
+closedp
+status
+mimeobjectclass
+mimesuperclass
+parseeof
+obj
+abortp
+status
+status
+defined
+xpmac
+defined
+xpmacosx
+obj
+parent
+mimetypep
+obj
+parent
+mimeobjectclass
+mimemultipartappledoubleclass
+done
+endif
+abortp
+obj
+outputp
+obj
+options
+obj
+options
+writehtmlp
+prbool
+allheadersp
+obj
+options
+headers
+mimeheadersall
+mimedisplayoptions
+newopt
+obj
+options
+ct
+mimeheadersget
+obj
+headers
+headercontenttype
+prfalse
+prfalse
+at
+lexp
+size
+perm
+url
+dir
+mode
+name
+site
+svr
+subj
+lname
+lurl
+body
+mimeheaders
+hdrs
+ct
+mimeoutofmemory
+at
+mimeheadersgetparameter
+ct
+access
+type
+lexp
+mimeheadersgetparameter
+ct
+expiration
+size
+mimeheadersgetparameter
+ct
+size
+perm
+mimeheadersgetparameter
+ct
+permission
+dir
+mimeheadersgetparameter
+ct
+directory
+mode
+mimeheadersgetparameter
+ct
+mode
+name
+mimeheadersgetparameter
+ct
+name
+site
+mimeheadersgetparameter
+ct
+site
+svr
+mimeheadersgetparameter
+ct
+server
+subj
+mimeheadersgetparameter
+ct
+subject
+url
+mimeheadersgetparameter
+ct
+url
+prfreeif
+ct
+ct
+mimeheadersget
+bod
+hdrs
+headercontenttype
+prtrue
+prfalse
+prmalloc
+at
+strlen
+at
+lexp
+strlen
+lexp
+size
+strlen
+size
+perm
+strlen
+perm
+dir
+strlen
+dir
+mode
+strlen
+mode
+name
+strlen
+name
+site
+strlen
+site
+svr
+strlen
+svr
+subj
+strlen
+subj
+url
+strlen
+url
+status
+mimeoutofmemory
+fail
+url
+in
+out
+in
+url
+out
+url
+in
+in
+nscrt
+isasciispace
+in
+out
+in
+out
+hdrs
+mimeheadersnew
+hdrs
+status
+mimeoutofmemory
+fail
+define
+frob
+str
+var
+var
+plstrcpy
+str
+plstrcat
+var
+plstrcat
+msglinebreak
+status
+mimeheadersparseline
+strlen
+hdrs
+status
+fail
+frob
+access
+type
+at
+frob
+url
+url
+frob
+site
+site
+frob
+server
+svr
+frob
+directory
+dir
+frob
+name
+name
+frob
+type
+ct
+frob
+size
+size
+frob
+mode
+mode
+frob
+permission
+perm
+frob
+expiration
+lexp
+frob
+subject
+subj
+undef
+frob
+plstrcpy
+msglinebreak
+status
+mimeheadersparseline
+strlen
+hdrs
+status
+fail
+lurl
+mimeexternalbodymakeurl
+ct
+at
+lexp
+size
+perm
+dir
+mode
+name
+url
+site
+svr
+subj
+bod
+body
+lurl
+lname
+mimegetstringbyid
+mimemsglinktodocument
+lname
+mimegetstringbyid
+mimemsgdocumentinfo
+allheadersp
+prtrue
+allheadersp
+prtrue
+bod
+body
+allheadersp
+bod
+body
+nscrt
+isasciispace
+pre
+pre
+suf
+pre
+print
+strlen
+nscrt
+isasciispace
+nsescapehtml
+fail
+body
+prmalloc
+strlen
+pre
+strlen
+strlen
+suf
+body
+nscrt
+free
+fail
+plstrcpy
+body
+pre
+plstrcat
+body
+plstrcat
+body
+suf
+newopt
+fancyheadersp
+prtrue
+newopt
+headers
+allheadersp
+mimeheadersall
+mimeheaderssome
+fail
+hdrs
+mimeheadersfree
+hdrs
+prfreeif
+prfreeif
+lname
+prfreeif
+lurl
+prfreeif
+body
+prfreeif
+ct
+prfreeif
+at
+prfreeif
+lexp
+prfreeif
+size
+prfreeif
+perm
+prfreeif
+dir
+prfreeif
+mode
+prfreeif
+name
+prfreeif
+url
+prfreeif
+site
+prfreeif
+svr
+prfreeif
+subj
+defined
+xpmac
+defined
+xpmacosx
+done
+endif
+status
+ifdef
+xpmac
+ifdef
+debug
+pragma
+globaloptimizer
+reset
+endif
+endif
+defined
+debug
+defined
+xpunix
+mimeexternalbodydebugprint
+mimeobject
+obj
+prfiledesc
+stream
+print
+depth
+mimeexternalbody
+bod
+mimeexternalbody
+obj
+ct
+ct
+addr
+mimepartaddress
+obj
+obj
+headers
+ct
+mimeheadersget
+obj
+headers
+headercontenttype
+prfalse
+prfalse
+bod
+hdrs
+ct
+mimeheadersget
+bod
+hdrs
+headercontenttype
+prfalse
+prfalse
+depth
+prwrite
+stream
+prfreeif
+addr
+prfreeif
+ct
+prfreeif
+ct
+endif
+endif
+prbool
+mimeexternalbodydisplayableinlinep
+mimeobjectclass
+clazz
+mimeheaders
+hdrs
+ct
+mimeheadersget
+hdrs
+headercontenttype
+prfalse
+prfalse
+at
+mimeheadersgetparameter
+ct
+access
+type
+prbool
+inlinep
+prfalse
+at
+nscrt
+strcasecmp
+at
+ftp
+nscrt
+strcasecmp
+at
+anon
+ftp
+nscrt
+strcasecmp
+at
+local
+file
+nscrt
+strcasecmp
+at
+mail
+server
+nscrt
+strcasecmp
+at
+url
+inlinep
+prtrue
+ifdef
+xpunix
+nscrt
+strcasecmp
+at
+afs
+nsfilespec
+fs
+afs
+fs
+exists
+inlinep
+prtrue
+endif
+prfreeif
+ct
+prfreeif
+at
+inlinep
\ No newline at end of file
@@ -0,0 +1,318 @@
+nscomptr
+mimeeobj
+prmem
+plstr
+prlog
+nsmimestringresources
+mimemoz
+nscrt
+mimemapl
+nsmimetypes
+define
+mimesuperclass
+mimeleafclass
+mimedefclass
+mimeexternalobject
+mimeexternalobjectclass
+mimeexternalobjectclass
+mimesuperclass
+mimeexternalobjectinitialize
+mimeobject
+mimeexternalobjectfinalize
+mimeobject
+mimeexternalobjectparsebegin
+mimeobject
+mimeexternalobjectparsebuffer
+print
+mimeobject
+mimeexternalobjectparseline
+print
+mimeobject
+mimeexternalobjectparsedecodedbuffer
+print
+mimeobject
+prbool
+mimeexternalobjectdisplayableinlinep
+mimeobjectclass
+clazz
+mimeheaders
+hdrs
+mimeexternalobjectclassinitialize
+mimeexternalobjectclass
+clazz
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+mimeleafclass
+lclass
+mimeleafclass
+clazz
+nsassertion
+oclass
+classinitialized
+rhp
+netscape
+mar
+oclass
+initialize
+mimeexternalobjectinitialize
+oclass
+finalize
+mimeexternalobjectfinalize
+oclass
+parsebegin
+mimeexternalobjectparsebegin
+oclass
+parsebuffer
+mimeexternalobjectparsebuffer
+oclass
+parseline
+mimeexternalobjectparseline
+oclass
+displayableinlinep
+mimeexternalobjectdisplayableinlinep
+lclass
+parsedecodedbuffer
+mimeexternalobjectparsedecodedbuffer
+mimeexternalobjectinitialize
+mimeobject
+object
+mimeobjectclass
+mimesuperclass
+initialize
+object
+mimeexternalobjectfinalize
+mimeobject
+object
+mimeobjectclass
+mimesuperclass
+finalize
+object
+mimeexternalobjectparsebegin
+mimeobject
+obj
+status
+status
+mimeobjectclass
+mimesuperclass
+parsebegin
+obj
+status
+status
+obj
+outputp
+obj
+options
+obj
+options
+writehtmlp
+obj
+options
+state
+firstdatawrittenp
+status
+mimeobjectoutputinit
+obj
+status
+status
+nsassertion
+obj
+options
+state
+firstdatawrittenp
+rhp
+netscape
+mar
+obj
+options
+obj
+outputp
+obj
+options
+writehtmlp
+obj
+options
+outputfn
+mimedisplayoptions
+newopt
+obj
+options
+id
+idurl
+idname
+nsxpidlcstring
+idimap
+prbool
+allheadersp
+obj
+options
+headers
+mimeheadersall
+id
+mimepartaddress
+obj
+obj
+options
+missingparts
+idimap
+adopt
+mimeimappartaddress
+obj
+id
+mimeoutofmemory
+obj
+options
+obj
+options
+url
+url
+obj
+options
+url
+idimap
+id
+idurl
+mimeseturlimappart
+url
+idimap
+get
+id
+idurl
+mimeseturlpart
+url
+id
+prtrue
+idurl
+prfree
+id
+mimeoutofmemory
+nscrt
+strcmp
+id
+prfree
+id
+id
+mimegetstringbyid
+mimemsgattachment
+part
+prmalloc
+strlen
+strlen
+id
+prfree
+id
+prfree
+idurl
+mimeoutofmemory
+id
+idname
+mimefindsuggestednameofpart
+id
+obj
+plstrcpy
+plstrcat
+id
+prfree
+id
+id
+allheadersp
+obj
+options
+state
+obj
+options
+state
+root
+obj
+parent
+allheadersp
+prfalse
+newopt
+fancyheadersp
+prtrue
+newopt
+headers
+allheadersp
+mimeheadersall
+mimeheaderssome
+newopt
+parttoload
+nsnull
+newopt
+defaultcharset
+nsnull
+prfreeif
+id
+prfreeif
+idurl
+prfreeif
+idname
+status
+status
+mimeexternalobjectparsebuffer
+buffer
+print
+size
+mimeobject
+obj
+nsassertion
+obj
+closedp
+rhp
+netscape
+mar
+obj
+closedp
+obj
+outputp
+obj
+options
+obj
+options
+writehtmlp
+mimeobjectclass
+mimesuperclass
+parsebuffer
+buffer
+size
+obj
+mimeexternalobjectparsedecodedbuffer
+buf
+print
+size
+mimeobject
+obj
+obj
+outputp
+obj
+options
+obj
+options
+writehtmlp
+nsassertion
+rhp
+netscape
+mar
+mimeobjectwrite
+obj
+buf
+size
+prtrue
+mimeexternalobjectparseline
+line
+print
+length
+mimeobject
+obj
+nsassertion
+rhp
+netscape
+mar
+prbool
+mimeexternalobjectdisplayableinlinep
+mimeobjectclass
+clazz
+mimeheaders
+hdrs
+prfalse
\ No newline at end of file
@@ -0,0 +1,1040 @@
+nscomptr
+msgcore
+mimei
+prmem
+prlog
+plstr
+mimebuf
+mimemoz
+nsimimeemitter
+nscrt
+nsipref
+nsescape
+nsmsgmessageflags
+nsmimeaddress
+comin
+nsmailheaders
+msgcore
+nsmimestringresources
+mimemoz
+nsmsgin
+mimehdrs
+nsimimeheaderparam
+nsnetcid
+print
+mimeheadersbuildheadslist
+mimeheaders
+hdrs
+mimeheadersconvertheadervalue
+mimedisplayoptions
+opt
+value
+converted
+value
+value
+opt
+opt
+rfcconversionp
+converted
+mimedecodemimeheader
+value
+opt
+defaultcharset
+opt
+overridecharset
+prtrue
+converted
+prfreeif
+value
+value
+converted
+prfreeif
+value
+value
+nsnull
+value
+mimeheaders
+mimeheadersnew
+mimeheaders
+hdrs
+mimeheaders
+prmalloc
+mimeheaders
+hdrs
+memset
+hdrs
+hdrs
+hdrs
+donep
+prfalse
+hdrs
+mimeheadersfree
+mimeheaders
+hdrs
+hdrs
+prfreeif
+hdrs
+allheaders
+prfreeif
+hdrs
+heads
+prfreeif
+hdrs
+obuffer
+prfreeif
+hdrs
+mungedsubject
+hdrs
+obufferfp
+hdrs
+obuffersize
+ifdef
+debug
+size
+hdrs
+pruint
+array
+pruint
+hdrs
+size
+array
+array
+pruint
+xdeadbeef
+endif
+prfree
+hdrs
+mimeheadersparseline
+buffer
+print
+size
+mimeheaders
+hdrs
+status
+desiredsize
+nsassertion
+hdrs
+rhp
+netscape
+aug
+hdrs
+nsassertion
+hdrs
+donep
+rhp
+netscape
+aug
+hdrs
+donep
+buffer
+size
+buffer
+nscrt
+cr
+buffer
+nscrt
+lf
+hdrs
+donep
+prtrue
+mimeheadersbuildheadslist
+hdrs
+desiredsize
+hdrs
+allheadersfp
+size
+desiredsize
+hdrs
+allheaderssize
+status
+mimegrowbuffer
+desiredsize
+hdrs
+allheaders
+hdrs
+allheaderssize
+status
+status
+memcpy
+hdrs
+allheaders
+hdrs
+allheadersfp
+buffer
+size
+hdrs
+allheadersfp
+size
+mimeheaders
+mimeheaderscopy
+mimeheaders
+hdrs
+mimeheaders
+hdrs
+hdrs
+hdrs
+mimeheaders
+prmalloc
+hdrs
+hdrs
+memset
+hdrs
+hdrs
+hdrs
+allheaders
+hdrs
+allheaders
+prmalloc
+hdrs
+allheadersfp
+hdrs
+allheaders
+prfree
+hdrs
+memcpy
+hdrs
+allheaders
+hdrs
+allheaders
+hdrs
+allheadersfp
+hdrs
+allheadersfp
+hdrs
+allheadersfp
+hdrs
+allheaderssize
+hdrs
+allheadersfp
+hdrs
+donep
+hdrs
+donep
+hdrs
+heads
+hdrs
+heads
+prmalloc
+hdrs
+headssize
+hdrs
+heads
+hdrs
+heads
+prfreeif
+hdrs
+allheaders
+prfree
+hdrs
+hdrs
+headssize
+hdrs
+headssize
+hdrs
+headssize
+hdrs
+heads
+hdrs
+allheaders
+hdrs
+heads
+hdrs
+allheaders
+hdrs
+mimeheadersbuildheadslist
+mimeheaders
+hdrs
+end
+nsassertion
+hdrs
+rhp
+netscape
+mar
+hdrs
+nsassertion
+hdrs
+donep
+hdrs
+heads
+rhp
+netscape
+mar
+hdrs
+donep
+hdrs
+heads
+hdrs
+allheadersfp
+prfreeif
+hdrs
+allheaders
+hdrs
+allheaderssize
+nsassertion
+hdrs
+allheadersfp
+hdrs
+allheaderssize
+rhp
+netscape
+mar
+hdrs
+allheadersfp
+hdrs
+allheaderssize
+ls
+prrealloc
+hdrs
+allheaders
+hdrs
+allheadersfp
+ls
+hdrs
+allheaders
+ls
+hdrs
+allheaderssize
+hdrs
+allheadersfp
+end
+hdrs
+allheaders
+hdrs
+allheadersfp
+hdrs
+allheaders
+end
+end
+nscrt
+cr
+nscrt
+lf
+nscrt
+cr
+nscrt
+lf
+end
+hdrs
+headssize
+hdrs
+heads
+prmalloc
+hdrs
+headssize
+hdrs
+heads
+mimeoutofmemory
+memset
+hdrs
+heads
+hdrs
+headssize
+hdrs
+heads
+hdrs
+allheaders
+hdrs
+allheaders
+end
+searchnewline
+end
+nscrt
+cr
+nscrt
+lf
+end
+end
+nscrt
+cr
+nscrt
+lf
+searchnewline
+nscrt
+cr
+nscrt
+lf
+searchnewline
+nscrt
+cr
+nscrt
+lf
+end
+nsassertion
+hdrs
+headssize
+rhp
+netscape
+mar
+hdrs
+headssize
+hdrs
+heads
+mimeheadersget
+mimeheaders
+hdrs
+headername
+prbool
+stripp
+prbool
+allp
+namelength
+result
+hdrs
+nsassertion
+headername
+rhp
+netscape
+mar
+headername
+nsassertion
+stripp
+allp
+rhp
+netscape
+mar
+hdrs
+donep
+status
+hdrs
+donep
+prtrue
+status
+mimeheadersbuildheadslist
+hdrs
+status
+hdrs
+heads
+nsassertion
+hdrs
+allheadersfp
+rhp
+netscape
+mar
+namelength
+strlen
+headername
+hdrs
+headssize
+head
+hdrs
+heads
+end
+hdrs
+headssize
+hdrs
+allheaders
+hdrs
+allheadersfp
+hdrs
+heads
+colon
+ocolon
+nsassertion
+head
+rhp
+netscape
+mar
+head
+head
+strncmp
+head
+from
+colon
+head
+colon
+end
+colon
+colon
+colon
+end
+ocolon
+colon
+colon
+head
+nscrt
+isasciispace
+colon
+colon
+namelength
+colon
+head
+nscrt
+strncasecmp
+headername
+head
+namelength
+contents
+ocolon
+contents
+end
+nscrt
+isasciispace
+contents
+contents
+stripp
+contents
+end
+nscrt
+isasciispace
+end
+result
+result
+prmalloc
+end
+contents
+result
+result
+print
+strlen
+result
+prrealloc
+result
+end
+contents
+prfree
+result
+result
+result
+msglinebreak
+msglinebreaklen
+msglinebreak
+endif
+end
+contents
+nscrt
+isasciispace
+end
+end
+end
+contents
+memcpy
+contents
+end
+contents
+end
+contents
+allp
+result
+result
+prfree
+result
+result
+mimeheadersgetparameter
+headervalue
+parmname
+charset
+language
+headervalue
+parmname
+headervalue
+parmname
+nsnull
+nsresult
+rv
+nscomptr
+nsimimeheaderparam
+mimehdrpar
+dogetservice
+nsmimeheaderparamcontractid
+rv
+nsfailed
+rv
+nsnull
+nsxpidlcstring
+result
+rv
+mimehdrpar
+getparameterinternal
+headervalue
+parmname
+charset
+language
+gettercopies
+result
+nssucceeded
+rv
+plstrdup
+result
+get
+nsnull
+define
+mimeheaderswrite
+opt
+data
+length
+mimeoptionswrite
+opt
+data
+length
+prtrue
+define
+mimeheadersgrowobuffer
+hdrs
+desiredsize
+desiredsize
+hdrs
+obuffersize
+mimegrowbuffer
+desiredsize
+hdrs
+obuffer
+hdrs
+obuffersize
+mimeheaderswriteallheaders
+mimeheaders
+hdrs
+mimedisplayoptions
+opt
+prbool
+attachment
+status
+prbool
+wroteanyp
+prfalse
+nsassertion
+hdrs
+rhp
+netscape
+mar
+hdrs
+hdrs
+donep
+hdrs
+donep
+prtrue
+status
+mimeheadersbuildheadslist
+hdrs
+status
+charset
+nsnull
+opt
+formatout
+nsmimeoutput
+nsmimemessagesaveas
+opt
+overridecharset
+charset
+plstrdup
+opt
+defaultcharset
+contenttype
+mimeheadersget
+hdrs
+headercontenttype
+prfalse
+prfalse
+contenttype
+charset
+mimeheadersgetparameter
+contenttype
+headerparmcharset
+nsnull
+nsnull
+prfreeif
+contenttype
+hdrs
+headssize
+head
+hdrs
+heads
+end
+hdrs
+headssize
+hdrs
+allheaders
+hdrs
+allheadersfp
+hdrs
+heads
+colon
+ocolon
+contents
+end
+name
+hdrvalue
+hdrvalue
+head
+strncmp
+head
+from
+colon
+head
+colon
+end
+colon
+colon
+ocolon
+colon
+colon
+head
+nscrt
+isasciispace
+colon
+colon
+contents
+ocolon
+contents
+end
+nscrt
+isasciispace
+contents
+contents
+end
+contents
+nscrt
+isasciispace
+end
+end
+name
+prmalloc
+colon
+head
+name
+mimeoutofmemory
+memcpy
+name
+head
+colon
+head
+name
+colon
+head
+end
+contents
+hdrvalue
+prmalloc
+end
+contents
+hdrvalue
+prfree
+name
+mimeoutofmemory
+memcpy
+hdrvalue
+contents
+end
+contents
+hdrvalue
+end
+contents
+mimeheadersconvertheadervalue
+opt
+hdrvalue
+opt
+formatout
+nsmimeoutput
+nsmimemessagesaveas
+charset
+convertedstr
+nssucceeded
+convertfromunicode
+charset
+nsconvertutftoucs
+hdrvalue
+convertedstr
+prfreeif
+hdrvalue
+hdrvalue
+convertedstr
+attachment
+status
+mimeemitteraddattachmentfield
+opt
+name
+hdrvalue
+status
+mimeemitteraddheaderfield
+opt
+name
+hdrvalue
+prfree
+name
+prfreeif
+hdrvalue
+status
+status
+wroteanyp
+wroteanyp
+status
+mimeemitteraddallheaders
+opt
+hdrs
+allheaders
+hdrs
+allheadersfp
+prfreeif
+charset
+ifdef
+mozsecurity
+hg
+endif
+mimestripcontinuations
+original
+original
+original
+nscrt
+cr
+nscrt
+lf
+original
+print
+intldefaultmailtowincharsetid
+print
+csid
+mimedecodefilename
+name
+charset
+mimedisplayoptions
+opt
+nsresult
+rv
+nscomptr
+nsimimeheaderparam
+mimehdrpar
+dogetservice
+nsmimeheaderparamcontractid
+rv
+nsfailed
+rv
+nsnull
+nscautostring
+result
+rv
+mimehdrpar
+decodeparameter
+nsdependentcstring
+name
+charset
+opt
+defaultcharset
+opt
+overridecharset
+result
+nssucceeded
+rv
+plstrdup
+result
+get
+nsnull
+mimeheadersgetname
+mimeheaders
+hdrs
+mimedisplayoptions
+opt
+name
+cvt
+charset
+nsnull
+mimeheadersget
+hdrs
+headercontentdisposition
+prfalse
+prfalse
+name
+mimeheadersgetparameter
+headerparmfilename
+charset
+prfree
+name
+mimeheadersget
+hdrs
+headercontenttype
+prfalse
+prfalse
+nsmemory
+free
+charset
+name
+mimeheadersgetparameter
+headerparmname
+charset
+prfree
+name
+name
+mimeheadersget
+hdrs
+headercontentname
+prfalse
+prfalse
+name
+name
+mimeheadersget
+hdrs
+headerxsundataname
+prfalse
+prfalse
+name
+mimestripcontinuations
+name
+cvt
+mimedecodefilename
+name
+charset
+opt
+nsmemory
+free
+charset
+cvt
+cvt
+name
+prfree
+name
+name
+cvt
+name
+ifdef
+xpunix
+mimeheadersdounixdisplayhookhack
+mimeheaders
+hdrs
+cmd
+cmd
+cmd
+getenv
+nsmsgdisplayhook
+cmd
+cmd
+cmd
+nscrt
+strdup
+cmd
+cmd
+cmd
+file
+fp
+popen
+cmd
+fp
+fwrite
+hdrs
+allheaders
+hdrs
+allheadersfp
+fp
+pclose
+fp
+endif
+mimeheaderscompact
+mimeheaders
+hdrs
+nsassertion
+hdrs
+rhp
+netscape
+aug
+hdrs
+prfreeif
+hdrs
+obuffer
+hdrs
+obufferfp
+hdrs
+obuffersize
+nsassertion
+hdrs
+allheadersfp
+hdrs
+allheaderssize
+hdrs
+allheadersfp
+hdrs
+allheaderssize
+rhp
+netscape
+aug
+mimeheaderswriterawheaders
+mimeheaders
+hdrs
+mimedisplayoptions
+opt
+prbool
+dontwritecontenttype
+status
+hdrs
+hdrs
+donep
+hdrs
+donep
+prtrue
+status
+mimeheadersbuildheadslist
+hdrs
+status
+dontwritecontenttype
+nl
+msglinebreak
+hdrs
+status
+mimeheaderswrite
+opt
+hdrs
+allheaders
+hdrs
+allheadersfp
+status
+status
+status
+mimeheaderswrite
+opt
+nl
+strlen
+nl
+status
+status
+hdrs
+print
+hdrs
+headssize
+head
+hdrs
+heads
+end
+hdrs
+headssize
+hdrs
+allheaders
+hdrs
+allheadersfp
+hdrs
+heads
+nsassertion
+head
+rhp
+netscape
+aug
+head
+nscrt
+strncasecmp
+head
+content
+status
+mimeheaderswrite
+opt
+head
+end
+head
+status
+status
+hdrs
+mimeheaderscompact
+hdrs
+mimeheadersopencryptostamp
+nsnull
+mimeheadersfinishopencryptostamp
+nsnull
+mimeheadersclosecryptostamp
+nsnull
+mimeheadersmakecryptostamp
+prbool
+encryptedp
+prbool
+signedp
+prbool
+goodp
+prbool
+unverifiedp
+prbool
+closeparentstampp
+stampurl
+nsnull
\ No newline at end of file
@@ -0,0 +1,2406 @@
+nscomptr
+mimeobj
+mimecont
+mimemult
+mimemmix
+mimemdig
+mimempar
+mimemalt
+mimemrel
+mimemapl
+mimesun
+mimemsig
+ifdef
+enablesmime
+mimemcms
+endif
+mimecryp
+ifdef
+enablesmime
+mimecms
+endif
+mimemsg
+mimeunty
+mimeleaf
+mimetext
+mimetpla
+mimethpl
+mimetpfl
+mimethtm
+mimethsa
+mimetric
+mimetenr
+mimeiimg
+mimeeobj
+mimeebod
+prlog
+prmem
+prenv
+plstr
+prlink
+prprf
+mimecth
+mimebuf
+nsiservicemanager
+nscrt
+mimemoz
+nsimimecontenttypehandler
+nsicomponentmanager
+nsvoidarray
+nsmimestringresources
+nsmimetypes
+nsmsgutils
+nsipref
+imgiloader
+define
+imapexternalcontentheader
+mozilla
+imap
+part
+nsdefinecid
+kprefcid
+nsprefcid
+mimeclassinit
+mimeobjectclass
+clazz
+contenttype
+prbool
+forceinlinedisplay
+cthandlerstruct
+nsvoidarray
+cthandlerlist
+prbool
+foundit
+prfalse
+prbool
+forcedisplay
+prfalse
+prbool
+prcallback
+enumfunction
+aelement
+adata
+cthandlerstruct
+ptr
+cthandlerstruct
+aelement
+ctptr
+adata
+aelement
+adata
+prtrue
+nscrt
+strcasecmp
+ctptr
+ptr
+contenttype
+foundit
+prtrue
+forcedisplay
+ptr
+forceinlinedisplay
+prfalse
+prtrue
+prbool
+findcontenttypeattribs
+contenttype
+prbool
+forceinlinedisplay
+forceinlinedisplay
+prfalse
+cthandlerlist
+prfalse
+foundit
+prfalse
+forcedisplay
+prfalse
+cthandlerlist
+enumerateforwards
+enumfunction
+contenttype
+foundit
+forceinlinedisplay
+forcedisplay
+foundit
+addcontenttypeattribs
+contenttype
+contenttypehandlerinitstruct
+cthandlerinfo
+cthandlerstruct
+ptr
+prbool
+forceinlinedisplay
+findcontenttypeattribs
+contenttype
+forceinlinedisplay
+contenttype
+cthandlerinfo
+cthandlerlist
+cthandlerlist
+nsvoidarray
+cthandlerlist
+ptr
+cthandlerstruct
+prmalloc
+cthandlerstruct
+ptr
+plstrncpy
+ptr
+contenttype
+contenttype
+ptr
+contenttype
+ptr
+forceinlinedisplay
+cthandlerinfo
+forceinlinedisplay
+cthandlerlist
+appendelement
+ptr
+prbool
+forceinlinedisplay
+contenttype
+prbool
+forceinlinedisp
+findcontenttypeattribs
+contenttype
+forceinlinedisp
+forceinlinedisp
+mimeobjectclass
+mimelocateexternalcontenthandler
+contenttype
+contenttypehandlerinitstruct
+cthandlerinfo
+mimeobjectclass
+newobj
+nscid
+classid
+lookupid
+nscomptr
+nsimimecontenttypehandler
+cthandler
+nsresult
+rv
+nsok
+prsnprintf
+lookupid
+lookupid
+mimecth
+type
+contenttype
+nscomponentmanager
+contractidtoclassid
+lookupid
+classid
+nsok
+rv
+nscomponentmanager
+createinstance
+classid
+nsisupports
+nsnull
+nsgetiid
+nsimimecontenttypehandler
+getteraddrefs
+cthandler
+nsfailed
+rv
+cthandler
+nsnull
+rv
+cthandler
+createcontenttypehandlerclass
+contenttype
+cthandlerinfo
+newobj
+nsfailed
+rv
+nsnull
+addcontenttypeattribs
+contenttype
+cthandlerinfo
+newobj
+mimemimeobjectwrite
+mimeobject
+obj
+output
+print
+length
+prbool
+uservisiblep
+mimeobjectwrite
+obj
+output
+length
+uservisiblep
+mimeobject
+mimenew
+mimeobjectclass
+clazz
+mimeheaders
+hdrs
+overridecontenttype
+size
+clazz
+instancesize
+mimeobject
+object
+status
+nsassertion
+clazz
+classname
+strlen
+clazz
+classname
+rhp
+netscape
+mar
+nsassertion
+size
+size
+rhp
+netscape
+mar
+clazz
+classinitialized
+status
+mimeclassinit
+clazz
+status
+nsassertion
+clazz
+initialize
+clazz
+finalize
+rhp
+netscape
+mar
+hdrs
+hdrs
+mimeheaderscopy
+hdrs
+hdrs
+object
+mimeobject
+prmalloc
+size
+object
+memset
+object
+size
+object
+clazz
+clazz
+object
+headers
+hdrs
+object
+dontshowasattachment
+prfalse
+overridecontenttype
+overridecontenttype
+object
+contenttype
+nscrt
+strdup
+overridecontenttype
+status
+clazz
+initialize
+object
+status
+clazz
+finalize
+object
+prfree
+object
+object
+mimefree
+mimeobject
+object
+ifdef
+debug
+size
+object
+clazz
+instancesize
+pruint
+array
+pruint
+object
+endif
+object
+clazz
+finalize
+object
+ifdef
+debug
+size
+array
+array
+pruint
+xdeadbeef
+endif
+prfree
+object
+prbool
+mimeisallowedclass
+mimeobjectclass
+clazz
+print
+typesofclassestodisallow
+typesofclassestodisallow
+prtrue
+prbool
+avoidhtml
+typesofclassestodisallow
+prbool
+avoidimages
+typesofclassestodisallow
+prbool
+avoidstrangecontent
+typesofclassestodisallow
+prbool
+allowonlyvanillaclasses
+typesofclassestodisallow
+allowonlyvanillaclasses
+clazz
+mimeobjectclass
+mimeinlinetextplainclass
+clazz
+mimeobjectclass
+mimeinlinetextplainflowedclass
+clazz
+mimeobjectclass
+mimeinlinetexthtmlsanitizedclass
+clazz
+mimeobjectclass
+mimeinlinetexthtmlasplaintextclass
+clazz
+mimeobjectclass
+mimemultipartmixedclass
+clazz
+mimeobjectclass
+mimemultipartalternativeclass
+clazz
+mimeobjectclass
+mimemultipartdigestclass
+clazz
+mimeobjectclass
+mimemultipartappledoubleclass
+clazz
+mimeobjectclass
+mimemessageclass
+clazz
+mimeobjectclass
+mimeexternalobjectclass
+ifdef
+enablesmime
+clazz
+mimeobjectclass
+mimemultipartsignedcmsclass
+clazz
+mimeobjectclass
+mimeencryptedcmsclass
+endif
+clazz
+avoidhtml
+clazz
+mimeobjectclass
+mimeinlinetexthtmlclass
+avoidimages
+clazz
+mimeobjectclass
+mimeinlineimageclass
+avoidstrangecontent
+clazz
+mimeobjectclass
+mimeinlinetextenrichedclass
+clazz
+mimeobjectclass
+mimeinlinetextrichtextclass
+clazz
+mimeobjectclass
+mimesunattachmentclass
+clazz
+mimeobjectclass
+mimeexternalbodyclass
+mimeobjectclass
+mimefindclass
+contenttype
+mimeheaders
+hdrs
+mimedisplayoptions
+opts
+prbool
+exactmatchp
+mimeobjectclass
+clazz
+mimeobjectclass
+tempclass
+contenttypehandlerinitstruct
+cthandlerinfo
+nsipref
+pref
+getprefservicemanager
+opts
+print
+htmlas
+print
+typesofclassestodisallow
+opts
+opts
+formatout
+nsmimeoutput
+nsmimemessagefiltersniffer
+opts
+formatout
+nsmimeoutput
+nsmimemessagedecrypt
+pref
+pref
+getintpref
+mailnews
+display
+htmlas
+htmlas
+pref
+getintpref
+mailnews
+display
+disallowmimehandlers
+typesofclassestodisallow
+typesofclassestodisallow
+htmlas
+htmlas
+tempclass
+mimelocateexternalcontenthandler
+contenttype
+cthandlerinfo
+typesofclassestodisallow
+nscrt
+strncasecmp
+contenttype
+text
+vcard
+nscrt
+strncasecmp
+contenttype
+text
+calendar
+exactmatchp
+clazz
+mimeobjectclass
+mimeexternalobjectclass
+clazz
+mimeobjectclass
+tempclass
+contenttype
+contenttype
+nscrt
+strcasecmp
+contenttype
+text
+clazz
+mimeobjectclass
+mimeuntypedtextclass
+nscrt
+strncasecmp
+contenttype
+text
+nscrt
+strcasecmp
+contenttype
+html
+opts
+opts
+formatout
+nsmimeoutput
+nsmimemessagesaveas
+clazz
+mimeobjectclass
+mimeinlinetexthtmlclass
+typesofclassestodisallow
+htmlas
+clazz
+mimeobjectclass
+mimeinlinetexthtmlclass
+htmlas
+clazz
+mimeobjectclass
+mimeinlinetexthtmlasplaintextclass
+htmlas
+clazz
+mimeobjectclass
+mimeinlinetextplainclass
+htmlas
+clazz
+mimeobjectclass
+mimeinlinetexthtmlsanitizedclass
+clazz
+mimeobjectclass
+mimeinlinetexthtmlasplaintextclass
+nscrt
+strcasecmp
+contenttype
+enriched
+clazz
+mimeobjectclass
+mimeinlinetextenrichedclass
+nscrt
+strcasecmp
+contenttype
+richtext
+clazz
+mimeobjectclass
+mimeinlinetextrichtextclass
+nscrt
+strcasecmp
+contenttype
+rtf
+clazz
+mimeobjectclass
+mimeexternalobjectclass
+nscrt
+strcasecmp
+contenttype
+plain
+clazz
+mimeobjectclass
+mimeinlinetextplainclass
+opts
+opts
+formatout
+nsmimeoutput
+nsmimemessagefiltersniffer
+prbool
+disableformatflowed
+prfalse
+pref
+pref
+getboolpref
+mailnews
+display
+disableformatflowedsupport
+disableformatflowed
+disableformatflowed
+contenttyperow
+hdrs
+mimeheadersget
+hdrs
+headercontenttype
+prfalse
+prfalse
+contenttypeformat
+contenttyperow
+mimeheadersgetparameter
+contenttyperow
+format
+contenttypeformat
+nscrt
+strcasecmp
+contenttypeformat
+flowed
+clazz
+mimeobjectclass
+mimeinlinetextplainflowedclass
+prfreeif
+contenttypeformat
+prfreeif
+contenttyperow
+exactmatchp
+clazz
+mimeobjectclass
+mimeinlinetextplainclass
+nscrt
+strncasecmp
+contenttype
+multipart
+nscrt
+strcasecmp
+contenttype
+alternative
+clazz
+mimeobjectclass
+mimemultipartalternativeclass
+nscrt
+strcasecmp
+contenttype
+related
+clazz
+mimeobjectclass
+mimemultipartrelatedclass
+nscrt
+strcasecmp
+contenttype
+digest
+clazz
+mimeobjectclass
+mimemultipartdigestclass
+nscrt
+strcasecmp
+contenttype
+appledouble
+nscrt
+strcasecmp
+contenttype
+header
+set
+clazz
+mimeobjectclass
+mimemultipartappledoubleclass
+nscrt
+strcasecmp
+contenttype
+parallel
+clazz
+mimeobjectclass
+mimemultipartparallelclass
+nscrt
+strcasecmp
+contenttype
+mixed
+clazz
+mimeobjectclass
+mimemultipartmixedclass
+ifdef
+enablesmime
+nscrt
+strcasecmp
+contenttype
+ct
+hdrs
+mimeheadersget
+hdrs
+headercontenttype
+prfalse
+prfalse
+proto
+ct
+mimeheadersgetparameter
+ct
+paramprotocol
+micalg
+ct
+mimeheadersgetparameter
+ct
+parammicalg
+proto
+nscrt
+strcasecmp
+proto
+applicationxpkcssignature
+nscrt
+strcasecmp
+proto
+applicationpkcssignature
+micalg
+nscrt
+strcasecmp
+micalg
+parammicalgmd
+nscrt
+strcasecmp
+micalg
+parammicalgmd
+nscrt
+strcasecmp
+micalg
+parammicalgsha
+nscrt
+strcasecmp
+micalg
+parammicalgsha
+nscrt
+strcasecmp
+micalg
+parammicalgsha
+nscrt
+strcasecmp
+micalg
+parammicalgsha
+nscrt
+strcasecmp
+micalg
+parammicalgsha
+nscrt
+strcasecmp
+micalg
+parammicalgmd
+clazz
+mimeobjectclass
+mimemultipartsignedcmsclass
+clazz
+prfreeif
+proto
+prfreeif
+micalg
+prfreeif
+ct
+endif
+clazz
+exactmatchp
+clazz
+mimeobjectclass
+mimemultipartmixedclass
+opts
+opts
+formatout
+nsmimeoutput
+nsmimemessagefiltersniffer
+clazz
+mimeobjectclass
+mimemultipartalternativeclass
+clazz
+mimeobjectclass
+mimemultipartmixedclass
+nscrt
+strncasecmp
+contenttype
+message
+nscrt
+strcasecmp
+contenttype
+rfc
+nscrt
+strcasecmp
+contenttype
+news
+clazz
+mimeobjectclass
+mimemessageclass
+nscrt
+strcasecmp
+contenttype
+external
+body
+clazz
+mimeobjectclass
+mimeexternalbodyclass
+nscrt
+strcasecmp
+contenttype
+partial
+clazz
+mimeobjectclass
+mimeexternalobjectclass
+exactmatchp
+clazz
+mimeobjectclass
+mimeinlinetextplainclass
+nscrt
+strncasecmp
+contenttype
+image
+nscomptr
+imgiloader
+loader
+dogetservice
+image
+loader
+prbool
+isreg
+prfalse
+loader
+supportimagewithmimetype
+contenttype
+isreg
+isreg
+clazz
+mimeobjectclass
+mimeinlineimageclass
+clazz
+mimeobjectclass
+mimeexternalobjectclass
+ifdef
+enablesmime
+nscrt
+strcasecmp
+contenttype
+applicationxpkcsmime
+nscrt
+strcasecmp
+contenttype
+applicationpkcsmime
+clazz
+mimeobjectclass
+mimeencryptedcmsclass
+endif
+nscrt
+strcasecmp
+contenttype
+applicationpgp
+nscrt
+strcasecmp
+contenttype
+applicationpgp
+clazz
+mimeobjectclass
+mimeinlinetextplainclass
+nscrt
+strcasecmp
+contenttype
+sunattachment
+clazz
+mimeobjectclass
+mimesunattachmentclass
+exactmatchp
+clazz
+mimeobjectclass
+mimeexternalobjectclass
+mimeisallowedclass
+clazz
+typesofclassestodisallow
+exactmatchp
+clazz
+mimeobjectclass
+mimeexternalobjectclass
+clazz
+ifdef
+enablesmime
+opts
+opts
+formatout
+nsmimeoutput
+nsmimemessagedecrypt
+clazz
+mimeobjectclass
+mimeencryptedcmsclass
+clazz
+mimeobjectclass
+mimeexternalobjectclass
+endif
+exactmatchp
+nsassertion
+clazz
+rhp
+netscape
+mar
+clazz
+nsassertion
+clazz
+rhp
+netscape
+mar
+clazz
+clazz
+classinitialized
+status
+mimeclassinit
+clazz
+status
+clazz
+mimeobject
+mimecreate
+contenttype
+mimeheaders
+hdrs
+mimedisplayoptions
+opts
+mimeobjectclass
+clazz
+contentdisposition
+mimeobject
+obj
+overridecontenttype
+prbool
+reverselookup
+prfalse
+gotlookuppref
+prfalse
+gotlookuppref
+nsipref
+pref
+getprefservicemanager
+opts
+pref
+pref
+getboolpref
+mailnews
+autolookupunknownmimetypes
+reverselookup
+gotlookuppref
+prtrue
+hdrs
+opts
+opts
+filetypefn
+contenttype
+nscrt
+strcasecmp
+contenttype
+applicationapplefile
+prtrue
+contenttype
+nscrt
+strcasecmp
+contenttype
+multipartappledouble
+prtrue
+contenttype
+nscrt
+strcasecmp
+contenttype
+applicationoctetstream
+nscrt
+strcasecmp
+contenttype
+unknowncontenttype
+reverselookup
+netcinfofindinfobytype
+contenttype
+endif
+name
+mimeheadersgetname
+hdrs
+opts
+name
+overridecontenttype
+opts
+filetypefn
+name
+opts
+streamclosure
+prfreeif
+name
+overridecontenttype
+nscrt
+strcasecmp
+overridecontenttype
+unknowncontenttype
+contenttype
+contenttype
+nscrt
+strcasecmp
+contenttype
+unknowncontenttype
+contenttype
+overridecontenttype
+prfreeif
+overridecontenttype
+clazz
+mimefindclass
+contenttype
+hdrs
+opts
+prfalse
+nsassertion
+clazz
+rhp
+netscape
+mar
+clazz
+fail
+opts
+opts
+parttoload
+contentdisposition
+mimesubclassp
+clazz
+mimeobjectclass
+mimecontainerclass
+mimesubclassp
+clazz
+mimeobjectclass
+mimemessageclass
+contentdisposition
+forceinlinedisplay
+contenttype
+nsmsgsacopy
+contentdisposition
+contentdisposition
+hdrs
+mimeheadersget
+hdrs
+headercontentdisposition
+prtrue
+prfalse
+contentdisposition
+nscrt
+strcasecmp
+contentdisposition
+clazz
+mimeobjectclass
+mimeinlinetexthtmlclass
+clazz
+mimeobjectclass
+mimeinlinetextclass
+clazz
+mimeobjectclass
+mimeinlinetextplainclass
+clazz
+mimeobjectclass
+mimeinlinetextplainflowedclass
+clazz
+mimeobjectclass
+mimeinlinetexthtmlclass
+clazz
+mimeobjectclass
+mimeinlinetexthtmlsanitizedclass
+clazz
+mimeobjectclass
+mimeinlinetexthtmlasplaintextclass
+clazz
+mimeobjectclass
+mimeinlinetextrichtextclass
+clazz
+mimeobjectclass
+mimeinlinetextenrichedclass
+clazz
+mimeobjectclass
+mimemessageclass
+clazz
+mimeobjectclass
+mimeinlineimageclass
+clazz
+mimeobjectclass
+mimeexternalobjectclass
+opts
+opts
+showattachmentinlinep
+mimesubclassp
+clazz
+mimeobjectclass
+mimeinlinetextclass
+opts
+state
+opts
+state
+firstpartwrittenp
+clazz
+mimeobjectclass
+mimeexternalobjectclass
+name
+hdrs
+mimeheadersgetname
+hdrs
+opts
+nsnull
+name
+clazz
+mimeobjectclass
+mimeexternalobjectclass
+prfree
+name
+mimesubclassp
+clazz
+mimeobjectclass
+mimecontainerclass
+mimesubclassp
+clazz
+mimeobjectclass
+mimemessageclass
+opts
+opts
+parttoload
+mimesubclassp
+clazz
+mimeobjectclass
+mimemessageclass
+clazz
+mimeobjectclass
+mimeexternalobjectclass
+prfreeif
+contentdisposition
+obj
+mimenew
+clazz
+hdrs
+contenttype
+fail
+overridecontenttype
+obj
+prfreeif
+obj
+contenttype
+obj
+contenttype
+overridecontenttype
+prfree
+overridecontenttype
+obj
+mimeclassinit
+mimeobjectclass
+clazz
+mimeobjectclass
+target
+mimeclassinit
+mimeobjectclass
+clazz
+status
+clazz
+classinitialized
+nsassertion
+clazz
+classinitialize
+rhp
+netscape
+mar
+clazz
+classinitialize
+clazz
+superclass
+clazz
+superclass
+classinitialized
+status
+mimeclassinit
+clazz
+superclass
+status
+status
+status
+mimeclassinit
+clazz
+clazz
+status
+status
+clazz
+classinitialized
+prtrue
+mimeclassinit
+mimeobjectclass
+clazz
+mimeobjectclass
+target
+status
+clazz
+superclass
+status
+mimeclassinit
+clazz
+superclass
+target
+status
+status
+clazz
+classinitialize
+target
+prbool
+mimesubclassp
+mimeobjectclass
+child
+mimeobjectclass
+parent
+child
+parent
+prtrue
+child
+superclass
+prfalse
+mimesubclassp
+child
+superclass
+parent
+prbool
+mimetypep
+mimeobject
+obj
+mimeobjectclass
+clazz
+mimesubclassp
+obj
+clazz
+clazz
+mimepartaddress
+mimeobject
+obj
+obj
+parent
+nscrt
+strdup
+print
+buf
+higher
+mimecontainer
+cont
+mimecontainer
+obj
+parent
+nsassertion
+mimetypep
+obj
+parent
+mimeobjectclass
+mimecontainerclass
+rhp
+netscape
+mar
+cont
+nchildren
+cont
+children
+obj
+nsassertion
+rhp
+netscape
+mar
+prsnprintf
+buf
+buf
+ld
+obj
+parent
+parent
+higher
+mimepartaddress
+obj
+parent
+higher
+higher
+nscrt
+strdup
+buf
+prmalloc
+strlen
+higher
+strlen
+buf
+prfree
+higher
+plstrcpy
+higher
+plstrcat
+plstrcat
+buf
+prfree
+higher
+mimeimappartaddress
+mimeobject
+obj
+imappart
+obj
+obj
+headers
+imappart
+mimeheadersget
+obj
+headers
+imapexternalcontentheader
+prfalse
+prfalse
+imappart
+ifdef
+enablesmime
+prbool
+mimecryptoobjectp
+mimeheaders
+hdrs
+prbool
+clearsignedcounts
+ct
+mimeobjectclass
+clazz
+hdrs
+prfalse
+ct
+mimeheadersget
+hdrs
+headercontenttype
+prtrue
+prfalse
+ct
+prfalse
+nscrt
+strcasecmp
+ct
+multipartsigned
+nscrt
+strncasecmp
+ct
+application
+prfree
+ct
+prfalse
+clazz
+mimefindclass
+ct
+hdrs
+prtrue
+prfree
+ct
+clazz
+mimeobjectclass
+mimeencryptedcmsclass
+prtrue
+clearsignedcounts
+clazz
+mimeobjectclass
+mimemultipartsignedcmsclass
+prtrue
+prfalse
+prbool
+mimecryptostampedp
+mimeobject
+obj
+obj
+prfalse
+mimetypep
+obj
+mimeobjectclass
+mimemessageclass
+mimemessage
+obj
+cryptostampedp
+prfalse
+mimegetcryptostate
+mimeobject
+obj
+prbool
+signedret
+prbool
+encryptedret
+prbool
+signedokret
+prbool
+encryptedokret
+prbool
+signedp
+encryptedp
+signedret
+signedret
+prfalse
+encryptedret
+encryptedret
+prfalse
+signedokret
+signedokret
+prfalse
+encryptedokret
+encryptedokret
+prfalse
+nsassertion
+obj
+rhp
+netscape
+mar
+obj
+mimetypep
+obj
+mimeobjectclass
+mimemessageclass
+signedp
+mimemessage
+obj
+cryptomsgsignedp
+encryptedp
+mimemessage
+obj
+cryptomsgencryptedp
+signedret
+signedret
+signedp
+encryptedret
+encryptedret
+encryptedp
+signedp
+encryptedp
+signedokret
+encryptedokret
+nsicmsmessage
+encryptedci
+nsicmsmessage
+signedci
+print
+decodeerror
+verifyerror
+addr
+mimepartaddress
+obj
+mimefindsecurityinfoofpart
+addr
+obj
+encryptedci
+signedci
+decodeerror
+verifyerror
+encryptedp
+encryptedokret
+encryptedokret
+encryptedci
+decodeerror
+signedp
+signedokret
+signedokret
+verifyerror
+decodeerror
+prfreeif
+addr
+mimesetcryptostamp
+mimeobject
+obj
+prbool
+signedp
+prbool
+encryptedp
+obj
+mimetypep
+obj
+mimeobjectclass
+mimemessageclass
+mimemessage
+msg
+mimemessage
+obj
+msg
+cryptomsgsignedp
+msg
+cryptomsgsignedp
+signedp
+msg
+cryptomsgencryptedp
+msg
+cryptomsgencryptedp
+encryptedp
+encryptedp
+obj
+options
+obj
+options
+decryptp
+obj
+options
+state
+nsassertion
+obj
+options
+writehtmlp
+rhp
+netscape
+mar
+obj
+options
+state
+decryptedp
+prtrue
+obj
+parent
+mimesetcryptostamp
+obj
+parent
+signedp
+encryptedp
+mimefindsecurityinfoofpart
+part
+mimeobject
+obj
+nsicmsmessage
+pkcsencryptedcontentinforeturn
+nsicmsmessage
+pkcssignedcontentinforeturn
+senderemailaddrreturn
+print
+decodeerrorreturn
+print
+verifyerrorreturn
+obj
+mimeaddresstopart
+part
+obj
+pkcsencryptedcontentinforeturn
+pkcssignedcontentinforeturn
+decodeerrorreturn
+verifyerrorreturn
+senderemailaddrreturn
+senderemailaddrreturn
+obj
+mimetypep
+obj
+mimeobjectclass
+mimemessageclass
+mimecontainer
+cont
+mimecontainer
+obj
+cont
+nchildren
+nsassertion
+cont
+nchildren
+rhp
+netscape
+mar
+obj
+cont
+children
+obj
+mimetypep
+obj
+mimeobjectclass
+mimeencryptedcmsclass
+mimetypep
+obj
+mimeobjectclass
+mimemultipartsignedcmsclass
+nsicmsmessage
+ci
+print
+decodeerror
+verifyerror
+prbool
+ciisencrypted
+prfalse
+sender
+mimetypep
+obj
+mimeobjectclass
+mimeencryptedcmsclass
+mimeencryptedcmsclass
+obj
+clazz
+getcontentinfo
+obj
+ci
+sender
+decodeerror
+verifyerror
+ciisencrypted
+mimetypep
+obj
+mimeobjectclass
+mimemultipartsignedcmsclass
+mimemultipartsignedcmsclass
+obj
+clazz
+getcontentinfo
+obj
+ci
+sender
+decodeerror
+verifyerror
+ciisencrypted
+ci
+ciisencrypted
+pkcsencryptedcontentinforeturn
+ci
+pkcssignedcontentinforeturn
+ci
+senderemailaddrreturn
+senderemailaddrreturn
+sender
+prfreeif
+sender
+decodeerrorreturn
+decodeerrorreturn
+decodeerror
+verifyerrorreturn
+verifyerrorreturn
+verifyerror
+nsassertion
+mimetypep
+obj
+mimeobjectclass
+mimecontainerclass
+mimecontainer
+obj
+nchildren
+rhp
+netscape
+mar
+obj
+mimecontainer
+obj
+nchildren
+mimecontainer
+obj
+children
+endif
+mimeseturlpart
+url
+part
+prbool
+appendp
+partbegin
+partend
+prbool
+gotq
+prfalse
+result
+url
+part
+url
+gotq
+prtrue
+nscrt
+strncasecmp
+part
+partbegin
+gotq
+nscrt
+strncasecmp
+part
+partbegin
+partbegin
+partend
+result
+prmalloc
+strlen
+url
+strlen
+part
+result
+partbegin
+appendp
+memcpy
+result
+url
+partend
+url
+result
+partend
+url
+result
+partend
+url
+memcpy
+result
+url
+partbegin
+url
+result
+partbegin
+url
+plstrcpy
+result
+url
+gotq
+plstrcat
+result
+part
+plstrcat
+result
+part
+plstrcat
+result
+part
+partend
+partend
+plstrcat
+result
+partend
+strlen
+result
+result
+result
+nscrt
+strcmp
+part
+result
+result
+result
+mimeseturlimappart
+url
+imappart
+libmimepart
+result
+wherecurrent
+plstrstr
+url
+section
+wherecurrent
+wherecurrent
+result
+prmalloc
+strlen
+url
+strlen
+imappart
+strlen
+libmimepart
+result
+plstrcpy
+result
+url
+plstrcat
+result
+section
+plstrcat
+result
+imappart
+plstrcat
+result
+part
+plstrcat
+result
+libmimepart
+result
+strlen
+result
+wherecurrent
+wherecurrent
+result
+mimeobject
+mimeaddresstopart
+part
+mimeobject
+obj
+prbool
+match
+part
+part
+match
+obj
+parent
+part
+mimepartaddress
+obj
+part
+match
+nscrt
+strcmp
+part
+part
+prfree
+part
+match
+obj
+mimetypep
+obj
+mimeobjectclass
+mimecontainerclass
+print
+mimecontainer
+cont
+mimecontainer
+obj
+cont
+nchildren
+mimeobject
+mimeaddresstopart
+part
+cont
+children
+mimefindcontenttypeofpart
+part
+mimeobject
+obj
+result
+obj
+mimeaddresstopart
+part
+obj
+obj
+result
+obj
+headers
+mimeheadersget
+obj
+headers
+headercontenttype
+prtrue
+prfalse
+result
+mimefindsuggestednameofpart
+part
+mimeobject
+obj
+result
+obj
+mimeaddresstopart
+part
+obj
+obj
+result
+obj
+headers
+mimeheadersgetname
+obj
+headers
+obj
+options
+result
+obj
+parent
+obj
+parent
+headers
+mimetypep
+obj
+parent
+mimeobjectclass
+mimemultipartappledoubleclass
+result
+mimeheadersgetname
+obj
+parent
+headers
+obj
+options
+result
+mimetypep
+obj
+mimeobjectclass
+mimemultipartappledoubleclass
+mimecontainer
+cont
+mimecontainer
+obj
+cont
+nchildren
+cont
+children
+cont
+children
+headers
+result
+mimeheadersgetname
+cont
+children
+headers
+obj
+options
+result
+cont
+nchildren
+cont
+children
+cont
+children
+headers
+result
+mimeheadersgetname
+cont
+children
+headers
+obj
+options
+result
+obj
+encoding
+obj
+encoding
+print
+strlen
+result
+exts
+nscrt
+strcasecmp
+obj
+encoding
+encodinguuencode
+uueexts
+uu
+uue
+exts
+uueexts
+exts
+exts
+ext
+exts
+print
+strlen
+ext
+result
+nscrt
+strcasecmp
+ext
+result
+result
+exts
+result
+mimeparseurloptions
+url
+mimedisplayoptions
+options
+mimeheadersstate
+defaultheaders
+options
+headers
+url
+url
+options
+plstrrchr
+url
+end
+value
+nameend
+end
+end
+end
+end
+value
+value
+value
+end
+value
+nameend
+value
+value
+end
+value
+nameend
+nscrt
+strncasecmp
+headers
+nameend
+end
+value
+nscrt
+strncasecmp
+only
+value
+end
+value
+options
+headers
+mimeheadersonly
+end
+value
+nscrt
+strncasecmp
+none
+value
+end
+value
+options
+headers
+mimeheadersnone
+end
+value
+nscrt
+strncasecmp
+all
+value
+end
+value
+options
+headers
+mimeheadersall
+end
+value
+nscrt
+strncasecmp
+some
+value
+end
+value
+options
+headers
+mimeheaderssome
+end
+value
+nscrt
+strncasecmp
+micro
+value
+end
+value
+options
+headers
+mimeheadersmicro
+end
+value
+nscrt
+strncasecmp
+cite
+value
+end
+value
+options
+headers
+mimeheaderscitation
+end
+value
+nscrt
+strncasecmp
+citation
+value
+end
+value
+options
+headers
+mimeheaderscitation
+options
+headers
+defaultheaders
+nscrt
+strncasecmp
+part
+nameend
+prfreeif
+options
+parttoload
+end
+value
+options
+parttoload
+prmalloc
+end
+value
+options
+parttoload
+mimeoutofmemory
+memcpy
+options
+parttoload
+value
+end
+value
+options
+parttoload
+end
+value
+nscrt
+strncasecmp
+rot
+nameend
+end
+value
+nscrt
+strncasecmp
+value
+end
+value
+options
+rotp
+prtrue
+options
+rotp
+prfalse
+end
+options
+parttoload
+plstrchr
+options
+parttoload
+nscrt
+strcmp
+options
+parttoload
+prfree
+options
+parttoload
+options
+parttoload
+nscrt
+strdup
+options
+parttoload
+mimeoutofmemory
+nscrt
+strcmp
+options
+parttoload
+prefix
+prmalloc
+strlen
+options
+parttoload
+strlen
+prefix
+mimeoutofmemory
+plstrcpy
+prefix
+plstrcat
+options
+parttoload
+prfree
+options
+parttoload
+options
+parttoload
+mimeoptionswrite
+mimedisplayoptions
+opt
+data
+print
+length
+prbool
+uservisiblep
+status
+closure
+opt
+opt
+outputfn
+opt
+state
+closure
+opt
+outputclosure
+closure
+closure
+opt
+streamclosure
+opt
+state
+separatorqueuedp
+uservisiblep
+opt
+state
+separatorqueuedp
+prfalse
+opt
+state
+separatorsuppressedp
+opt
+state
+separatorsuppressedp
+prfalse
+sep
+br
+hr
+width
+size
+br
+lstatus
+opt
+outputfn
+sep
+strlen
+sep
+closure
+opt
+state
+separatorsuppressedp
+prfalse
+lstatus
+lstatus
+uservisiblep
+opt
+state
+separatorsuppressedp
+prfalse
+length
+status
+opt
+outputfn
+data
+length
+closure
+status
+status
+mimeobjectwrite
+mimeobject
+obj
+output
+print
+length
+prbool
+uservisiblep
+obj
+outputp
+obj
+options
+state
+firstdatawrittenp
+status
+mimeobjectoutputinit
+obj
+status
+status
+nsassertion
+obj
+options
+state
+firstdatawrittenp
+rhp
+netscape
+mar
+mimeoptionswrite
+obj
+options
+output
+length
+uservisiblep
+mimeobjectwriteseparator
+mimeobject
+obj
+obj
+options
+obj
+options
+state
+obj
+options
+state
+separatorqueuedp
+prtrue
+mimeobjectoutputinit
+mimeobject
+obj
+contenttype
+obj
+obj
+options
+obj
+options
+state
+obj
+options
+state
+firstdatawrittenp
+status
+charset
+name
+xmactype
+xmaccreator
+obj
+options
+outputinitfn
+obj
+options
+state
+firstdatawrittenp
+prtrue
+obj
+headers
+ct
+name
+mimeheadersgetname
+obj
+headers
+obj
+options
+ct
+mimeheadersget
+obj
+headers
+headercontenttype
+prfalse
+prfalse
+ct
+xmactype
+mimeheadersgetparameter
+ct
+paramxmactype
+xmaccreator
+mimeheadersgetparameter
+ct
+paramxmaccreator
+xmactype
+xmaccreator
+obj
+parent
+obj
+parent
+headers
+ctp
+mimeheadersget
+obj
+parent
+headers
+headercontenttype
+prfalse
+prfalse
+ctp
+xmactype
+mimeheadersgetparameter
+ctp
+paramxmactype
+xmaccreator
+mimeheadersgetparameter
+ctp
+paramxmaccreator
+prfree
+ctp
+obj
+options
+overridecharset
+charset
+mimeheadersgetparameter
+ct
+charset
+nsnull
+nsnull
+charset
+prfreeif
+obj
+options
+defaultcharset
+obj
+options
+defaultcharset
+charset
+prfree
+ct
+mimetypep
+obj
+mimeobjectclass
+mimeinlinetextclass
+charset
+mimeinlinetext
+obj
+charset
+contenttype
+contenttype
+obj
+contenttype
+contenttype
+contenttype
+textplain
+prcallback
+resetchannelcharset
+mimeobject
+obj
+obj
+options
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagequoting
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagebodyquoting
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagesaveas
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessageprintoutput
+resetchannelcharset
+obj
+status
+obj
+options
+outputinitfn
+contenttype
+charset
+name
+xmactype
+xmaccreator
+obj
+options
+streamclosure
+prfreeif
+name
+prfreeif
+xmactype
+prfreeif
+xmaccreator
+obj
+options
+state
+firstdatawrittenp
+prtrue
+status
+mimegetbaseurl
+url
+url
+nsnull
+strrchr
+url
+result
+prmalloc
+strlen
+url
+nsassertion
+result
+out
+of
+memory
+result
+nsnull
+memcpy
+result
+url
+url
+result
+url
+result
\ No newline at end of file
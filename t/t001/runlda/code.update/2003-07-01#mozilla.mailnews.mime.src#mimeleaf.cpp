@@ -0,0 +1,279 @@
+modmimee
+mimeleaf
+nsmimetypes
+prmem
+plstr
+prlog
+nsmimestringresources
+nscrt
+define
+mimesuperclass
+mimeobjectclass
+mimedefclass
+mimeleaf
+mimeleafclass
+mimeleafclass
+mimesuperclass
+mimeleafinitialize
+mimeobject
+mimeleaffinalize
+mimeobject
+mimeleafparsebegin
+mimeobject
+mimeleafparsebuffer
+print
+mimeobject
+mimeleafparseline
+print
+mimeobject
+mimeleafparseeof
+mimeobject
+prbool
+prbool
+mimeleafdisplayableinlinep
+mimeobjectclass
+clazz
+mimeheaders
+hdrs
+mimeleafclassinitialize
+mimeleafclass
+clazz
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+nsassertion
+oclass
+classinitialized
+rhp
+netscape
+mar
+oclass
+initialize
+mimeleafinitialize
+oclass
+finalize
+mimeleaffinalize
+oclass
+parsebegin
+mimeleafparsebegin
+oclass
+parsebuffer
+mimeleafparsebuffer
+oclass
+parseline
+mimeleafparseline
+oclass
+parseeof
+mimeleafparseeof
+oclass
+displayableinlinep
+mimeleafdisplayableinlinep
+clazz
+parsedecodedbuffer
+mimeobjectclass
+mimesuperclass
+parsebuffer
+mimeleafinitialize
+mimeobject
+obj
+nsassertion
+obj
+clazz
+mimeobjectclass
+mimeleafclass
+rhp
+netscape
+mar
+mimeobjectclass
+mimesuperclass
+initialize
+obj
+mimeleaffinalize
+mimeobject
+object
+mimeleaf
+leaf
+mimeleaf
+object
+object
+clazz
+parseeof
+object
+prfalse
+leaf
+decoderdata
+mimedecoderdestroy
+leaf
+decoderdata
+prtrue
+leaf
+decoderdata
+mimeobjectclass
+mimesuperclass
+finalize
+object
+mimeleafparsebegin
+mimeobject
+obj
+mimeleaf
+leaf
+mimeleaf
+obj
+mimedecoderdata
+fn
+nsresult
+print
+obj
+encoding
+nscrt
+strcasecmp
+obj
+encoding
+encodingbase
+fn
+mimebdecoderinit
+nscrt
+strcasecmp
+obj
+encoding
+encodingquotedprintable
+fn
+mimeqpdecoderinit
+nscrt
+strcasecmp
+obj
+encoding
+encodinguuencode
+nscrt
+strcasecmp
+obj
+encoding
+encodinguuencode
+nscrt
+strcasecmp
+obj
+encoding
+encodinguuencode
+nscrt
+strcasecmp
+obj
+encoding
+encodinguuencode
+fn
+mimeuudecoderinit
+nscrt
+strcasecmp
+obj
+encoding
+encodingyencode
+fn
+mimeydecoderinit
+fn
+leaf
+decoderdata
+fn
+nsresult
+print
+mimeleafclass
+obj
+clazz
+parsedecodedbuffer
+obj
+leaf
+decoderdata
+mimeoutofmemory
+mimeobjectclass
+mimesuperclass
+parsebegin
+obj
+mimeleafparsebuffer
+buffer
+print
+size
+mimeobject
+obj
+mimeleaf
+leaf
+mimeleaf
+obj
+nsassertion
+obj
+closedp
+rhp
+netscape
+mar
+obj
+closedp
+obj
+outputp
+obj
+options
+obj
+options
+outputfn
+leaf
+decoderdata
+obj
+options
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagedecrypt
+mimedecoderwrite
+leaf
+decoderdata
+buffer
+size
+mimeleafclass
+obj
+clazz
+parsedecodedbuffer
+buffer
+size
+obj
+mimeleafparseline
+line
+print
+length
+mimeobject
+obj
+nsassertion
+rhp
+netscape
+mar
+mimeleafparseeof
+mimeobject
+obj
+prbool
+abortp
+mimeleaf
+leaf
+mimeleaf
+obj
+obj
+closedp
+leaf
+decoderdata
+status
+mimedecoderdestroy
+leaf
+decoderdata
+prfalse
+leaf
+decoderdata
+status
+status
+mimeobjectclass
+mimesuperclass
+parseeof
+obj
+abortp
+prbool
+mimeleafdisplayableinlinep
+mimeobjectclass
+clazz
+mimeheaders
+hdrs
+prtrue
\ No newline at end of file
@@ -0,0 +1,190 @@
+nscomptr
+mimemapl
+prmem
+plstr
+nsmimestringresources
+mimemoz
+nsmimetypes
+nscrt
+define
+mimesuperclass
+mimemultipartclass
+mimedefclass
+mimemultipartappledouble
+mimemultipartappledoubleclass
+mimemultipartappledoubleclass
+mimesuperclass
+mimemultipartappledoubleparsebegin
+mimeobject
+prbool
+mimemultipartappledoubleoutputchildp
+mimeobject
+mimeobject
+mimemultipartappledoubleclassinitialize
+mimemultipartappledoubleclass
+clazz
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+mimemultipartclass
+mclass
+mimemultipartclass
+clazz
+nsassertion
+oclass
+classinitialized
+mime
+initialized
+oclass
+parsebegin
+mimemultipartappledoubleparsebegin
+mclass
+outputchildp
+mimemultipartappledoubleoutputchildp
+mimemultipartappledoubleparsebegin
+mimeobject
+obj
+status
+status
+mimeobjectclass
+mimesuperclass
+parsebegin
+obj
+status
+status
+obj
+outputp
+obj
+options
+obj
+options
+writehtmlp
+obj
+options
+state
+firstdatawrittenp
+status
+mimeobjectoutputinit
+obj
+status
+status
+nsassertion
+obj
+options
+state
+firstdatawrittenp
+first
+data
+written
+defined
+xpmac
+defined
+xpmacosx
+obj
+options
+obj
+options
+state
+done
+endif
+obj
+options
+obj
+outputp
+obj
+options
+writehtmlp
+obj
+options
+outputfn
+id
+idurl
+idimap
+id
+mimepartaddress
+obj
+id
+mimeoutofmemory
+obj
+options
+missingparts
+idimap
+mimeimappartaddress
+obj
+obj
+options
+obj
+options
+url
+url
+obj
+options
+url
+idimap
+id
+idurl
+mimeseturlimappart
+url
+idimap
+id
+idurl
+mimeseturlpart
+url
+id
+prtrue
+idurl
+prfree
+id
+mimeoutofmemory
+prfreeif
+id
+prfreeif
+idurl
+prfreeif
+idimap
+status
+status
+defined
+xpmac
+defined
+xpmacosx
+done
+endif
+prbool
+mimemultipartappledoubleoutputchildp
+mimeobject
+obj
+mimeobject
+child
+mimecontainer
+cont
+mimecontainer
+obj
+cont
+nchildren
+cont
+children
+child
+child
+contenttype
+nscrt
+strcasecmp
+child
+contenttype
+applicationapplefile
+defined
+xpmac
+defined
+xpmacosx
+obj
+outputp
+obj
+options
+obj
+options
+writehtmlp
+prfalse
+prfalse
+endif
+prtrue nsresult
\ No newline at end of file
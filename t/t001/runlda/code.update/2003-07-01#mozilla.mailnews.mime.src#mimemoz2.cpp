@@ -0,0 +1,3438 @@
+prlog
+nscomptr
+modlmime
+nscrt
+mimeobj
+mimemsg
+mimetric
+mimethtm
+mimemsig
+mimemrel
+mimemalt
+mimebuf
+mimemapl
+prprf
+mimei
+mimebuf
+prmem
+plstr
+prmem
+mimemoz
+nsipref
+nsiservicemanager
+nsfilespec
+comin
+nsistringbundle
+nsstring
+nsreadableutils
+nsmimestringresources
+nsstreamconverter
+nsimsgsend
+nsimsgmailnewsurl
+nsspecialsystemdirectory
+mozitxttohtmlconv
+nscexternalhandlerservice
+nsimimeservice
+nsiimapurl
+nsmsgin
+nsicharsetconvertermanager
+nsicharsetalias
+nsmimetypes
+nsiioservice
+nsiuri
+nsnetcid
+nsimsgwindow
+nsmsgutils
+nsichannel
+nsicacheentrydescriptor
+nsicachesession
+nsitransport
+mimeebod
+mimeeobj
+nsxpcom
+nsparserciid
+nsiparser
+nsihtmlcontentsink
+nsicontentserializer
+nslayoutcid
+nsicomponentmanager
+nsreadableutils
+nsihtmltotextsink
+mozisanitizingserializer
+nsdefinecid
+kprefcid
+nsprefcid
+nsdefinecid
+kioservicecid
+nsioservicecid
+nsdefinecid
+kparsercid
+nsparsercid
+nsdefinecid
+knavdtdcid
+nscnavdtdcid
+ifdef
+havemimedataslot
+define
+locklastcachedmessage
+endif
+validaterealname
+nsmsgattachmentdata
+aattach
+mimeheaders
+ahdrs
+mimeheadersstate
+mimeheadertype
+prbool
+mimewraplonglines
+prbool
+mimevariablewidthplaintext
+nscomptr
+nsistringbundle
+stringbundle
+nsnull
+mimeobject
+mimegetmainobject
+mimeobject
+obj
+nsresult
+processbodyasattachment
+mimeobject
+obj
+nsmsgattachmentdata
+data
+nsmsgattachmentdata
+tmp
+print
+disp
+nsnull
+charset
+nsnull
+mimeobject
+child
+obj
+data
+nsmsgattachmentdata
+prmalloc
+nsmsgattachmentdata
+data
+nserroroutofmemory
+tmp
+data
+memset
+data
+nsmsgattachmentdata
+tmp
+realtype
+child
+contenttype
+nscrt
+strdup
+child
+contenttype
+tmp
+realencoding
+child
+encoding
+nscrt
+strdup
+child
+encoding
+disp
+mimeheadersget
+child
+headers
+headercontentdisposition
+prfalse
+prfalse
+tmp
+realname
+mimeheadersgetparameter
+disp
+name
+charset
+tmp
+realname
+fname
+fname
+mimedecodefilename
+tmp
+realname
+charset
+obj
+options
+nsmemory
+free
+charset
+fname
+fname
+tmp
+realname
+prfree
+tmp
+realname
+tmp
+realname
+fname
+tmp
+realname
+mimeheadersgetname
+child
+headers
+obj
+options
+tmp
+realname
+tmp
+realtype
+nscrt
+strncasecmp
+tmp
+realtype
+text
+validaterealname
+tmp
+child
+headers
+tmpurl
+nsnull
+id
+nsnull
+idimap
+nsnull
+id
+mimepartaddress
+obj
+obj
+options
+missingparts
+idimap
+mimeimappartaddress
+obj
+id
+prfreeif
+data
+prfreeif
+idimap
+nserroroutofmemory
+obj
+options
+obj
+options
+url
+url
+obj
+options
+url
+nsresult
+rv
+idimap
+id
+tmpurl
+mimeseturlimappart
+url
+idimap
+id
+rv
+nsmimenewuri
+tmp
+url
+tmpurl
+nsnull
+tmp
+notdownloaded
+prtrue
+tmpurl
+mimeseturlpart
+url
+id
+prtrue
+rv
+nsmimenewuri
+tmp
+url
+tmpurl
+nsnull
+tmp
+url
+nsfailed
+rv
+prfreeif
+data
+prfreeif
+id
+prfreeif
+idimap
+nserroroutofmemory
+prfreeif
+id
+prfreeif
+idimap
+prfreeif
+tmpurl
+tmp
+description
+mimeheadersget
+child
+headers
+headercontentdescription
+prfalse
+prfalse
+nsok
+print
+counttotalmimeattachments
+mimecontainer
+aobj
+print
+print
+rc
+aobj
+aobj
+children
+aobj
+nchildren
+mimetypep
+mimeobject
+aobj
+mimeobjectclass
+mimeexternalbodyclass
+aobj
+nchildren
+rc
+counttotalmimeattachments
+mimecontainer
+aobj
+children
+rc
+validaterealname
+nsmsgattachmentdata
+aattach
+mimeheaders
+ahdrs
+aattach
+aattach
+realname
+aattach
+realname
+aattach
+realtype
+aattach
+realtype
+nscrt
+strncasecmp
+aattach
+realtype
+multipart
+aattach
+realtype
+nscrt
+strcasecmp
+aattach
+realtype
+messagerfc
+nsassertion
+ahdrs
+how
+comes
+the
+object
+headers
+is
+ahdrs
+ahdrs
+mungedsubject
+aattach
+realname
+prsmprintf
+eml
+ahdrs
+mungedsubject
+nsmsgsacopy
+aattach
+realname
+forwardedmessage
+eml
+aattach
+realname
+aattach
+realname
+nsstring
+newattachname
+nsliteralstring
+attachment
+nsresult
+rv
+nsok
+nscautostring
+contenttype
+aattach
+realtype
+print
+pos
+contenttype
+findchar
+pos
+contenttype
+truncate
+pos
+nscomptr
+nsimimeservice
+mimefinder
+dogetservice
+nsmimeservicecontractid
+rv
+nssucceeded
+rv
+mimefinder
+nsimimeinfo
+mimeinfo
+nsnull
+rv
+mimefinder
+getfrommimetype
+contenttype
+get
+mimeinfo
+nssucceeded
+rv
+mimeinfo
+afileextension
+nsnull
+nssucceeded
+mimeinfo
+getprimaryextension
+afileextension
+afileextension
+newattachname
+append
+nsliteralstring
+newattachname
+appendwithconversion
+afileextension
+prfreeif
+afileextension
+aattach
+realname
+tonewcstring
+newattachname
+print
+attindex
+nsresult
+generateattachmentdata
+mimeobject
+object
+amessageurl
+mimedisplayoptions
+options
+prbool
+isanappledoublepart
+nsmsgattachmentdata
+aattachdata
+nsxpidlcstring
+imappart
+nsxpidlcstring
+part
+prbool
+isimappart
+object
+dontshowasattachment
+nsok
+part
+adopt
+mimepartaddress
+object
+part
+isempty
+nserroroutofmemory
+options
+missingparts
+imappart
+adopt
+mimeimappartaddress
+object
+urlspec
+nsnull
+imappart
+isempty
+isimappart
+prtrue
+urlspec
+mimeseturlimappart
+amessageurl
+imappart
+get
+part
+get
+isimappart
+prfalse
+noparturl
+nsnull
+options
+parttoload
+options
+formatout
+nsmimeoutput
+nsmimemessagebodydisplay
+noparturl
+mimegetbaseurl
+amessageurl
+noparturl
+urlspec
+mimeseturlpart
+noparturl
+part
+get
+prtrue
+prfree
+noparturl
+urlspec
+mimeseturlpart
+amessageurl
+part
+get
+prtrue
+urlspec
+nserroroutofmemory
+options
+formatout
+nsmimeoutput
+nsmimemessagebodydisplay
+nscrt
+strncasecmp
+amessageurl
+urlspec
+strlen
+urlspec
+nsok
+nsmsgattachmentdata
+tmp
+aattachdata
+attindex
+nsresult
+rv
+nsmimenewuri
+tmp
+url
+urlspec
+nsnull
+prfreeif
+urlspec
+nsfailed
+rv
+tmp
+url
+nserroroutofmemory
+tmp
+realtype
+object
+contenttype
+nscrt
+strdup
+object
+contenttype
+nsnull
+tmp
+realencoding
+object
+encoding
+nscrt
+strdup
+object
+encoding
+nsnull
+print
+charset
+nsnull
+disp
+mimeheadersget
+object
+headers
+headercontentdisposition
+prfalse
+prfalse
+disp
+tmp
+realname
+mimeheadersgetparameter
+disp
+filename
+charset
+nsnull
+isanappledoublepart
+tmp
+realname
+prfreeif
+disp
+nsmemory
+free
+charset
+disp
+mimeheadersget
+mimecontainer
+object
+children
+headers
+headercontentdisposition
+prfalse
+prfalse
+tmp
+realname
+mimeheadersgetparameter
+disp
+filename
+charset
+nsnull
+tmp
+realname
+fname
+nsnull
+fname
+mimedecodefilename
+tmp
+realname
+charset
+options
+nsmemory
+free
+charset
+fname
+fname
+tmp
+realname
+prfreeif
+tmp
+realname
+tmp
+realname
+fname
+prfreeif
+disp
+disp
+mimeheadersget
+object
+headers
+headercontenttype
+prfalse
+prfalse
+disp
+tmp
+xmactype
+mimeheadersgetparameter
+disp
+paramxmactype
+nsnull
+nsnull
+tmp
+xmaccreator
+mimeheadersgetparameter
+disp
+paramxmaccreator
+nsnull
+nsnull
+tmp
+realname
+tmp
+realname
+prfreeif
+tmp
+realname
+tmp
+realname
+mimeheadersgetparameter
+disp
+name
+charset
+nsnull
+isanappledoublepart
+tmp
+realname
+prfreeif
+disp
+nsmemory
+free
+charset
+disp
+mimeheadersget
+mimecontainer
+object
+children
+headers
+headercontenttype
+prfalse
+prfalse
+tmp
+realname
+mimeheadersgetparameter
+disp
+name
+charset
+nsnull
+tmp
+realname
+fname
+nsnull
+fname
+mimedecodefilename
+tmp
+realname
+charset
+options
+nsmemory
+free
+charset
+fname
+fname
+tmp
+realname
+prfree
+tmp
+realname
+tmp
+realname
+fname
+prfreeif
+disp
+tmp
+description
+mimeheadersget
+object
+headers
+headercontentdescription
+prfalse
+prfalse
+tmp
+realname
+nscrt
+strcasecmp
+tmp
+realtype
+messagerfc
+tmp
+realname
+mimegetstringbyid
+mimemsgdefaultattachmentname
+tmp
+realname
+newname
+prsmprintf
+tmp
+realname
+part
+get
+newname
+prfree
+tmp
+realname
+tmp
+realname
+newname
+tmp
+realname
+mimepartaddress
+object
+validaterealname
+tmp
+object
+headers
+isimappart
+tmp
+notdownloaded
+prtrue
+nsok
+nsresult
+buildattachmentlist
+mimeobject
+anobject
+nsmsgattachmentdata
+aattachdata
+amessageurl
+nsresult
+rv
+print
+mimecontainer
+cobj
+mimecontainer
+anobject
+anobject
+cobj
+children
+cobj
+nchildren
+mimetypep
+anobject
+mimeobjectclass
+mimeexternalbodyclass
+nsok
+cobj
+nchildren
+mimeobject
+child
+cobj
+children
+child
+contenttype
+nscrt
+strcasecmp
+child
+contenttype
+textplain
+nscrt
+strcasecmp
+child
+contenttype
+texthtml
+nscrt
+strcasecmp
+child
+contenttype
+textmdl
+child
+headers
+disp
+mimeheadersget
+child
+headers
+headercontentdisposition
+prtrue
+prfalse
+disp
+nscrt
+strcasecmp
+disp
+attachment
+prbool
+isaleafobject
+mimesubclassp
+child
+clazz
+mimeobjectclass
+mimeleafclass
+prbool
+isaninlinemessage
+mimetypep
+child
+mimeobjectclass
+mimemessageclass
+prbool
+isanappledoublepart
+mimetypep
+child
+mimeobjectclass
+mimemultipartappledoubleclass
+mimecontainer
+child
+nchildren
+isaleafobject
+isaninlinemessage
+isanappledoublepart
+rv
+generateattachmentdata
+child
+amessageurl
+anobject
+options
+isanappledoublepart
+aattachdata
+nsensuresuccess
+rv
+rv
+isaleafobject
+isanappledoublepart
+rv
+buildattachmentlist
+mimeobject
+child
+aattachdata
+amessageurl
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+mimegetattachmentlist
+mimeobject
+tobj
+amessageurl
+nsmsgattachmentdata
+data
+mimeobject
+obj
+mimecontainer
+cobj
+print
+prbool
+isaninlinemessage
+data
+data
+nsnull
+obj
+mimegetmainobject
+tobj
+obj
+mimesubclassp
+obj
+clazz
+mimeobjectclass
+mimecontainerclass
+plstrcasecmp
+obj
+contenttype
+messagerfc
+processbodyasattachment
+obj
+data
+isaninlinemessage
+mimetypep
+obj
+mimeobjectclass
+mimemessageclass
+cobj
+mimecontainer
+obj
+counttotalmimeattachments
+cobj
+isaninlinemessage
+data
+nsmsgattachmentdata
+prmalloc
+nsmsgattachmentdata
+data
+nserroroutofmemory
+attindex
+memset
+data
+nsmsgattachmentdata
+nsresult
+rv
+isaninlinemessage
+rv
+generateattachmentdata
+obj
+amessageurl
+obj
+options
+prfalse
+data
+nsensuresuccess
+rv
+rv
+buildattachmentlist
+mimeobject
+cobj
+data
+amessageurl
+mimefreeattachmentlist
+nsmsgattachmentdata
+data
+data
+nsmsgattachmentdata
+tmp
+tmp
+data
+tmp
+url
+tmp
+nsifrelease
+tmp
+url
+tmp
+realtype
+prfree
+tmp
+realtype
+tmp
+realencoding
+prfree
+tmp
+realencoding
+tmp
+realname
+prfree
+tmp
+realname
+tmp
+xmactype
+prfree
+tmp
+xmactype
+tmp
+xmaccreator
+prfree
+tmp
+xmaccreator
+tmp
+description
+prfree
+tmp
+description
+tmp
+url
+tmp
+realtype
+tmp
+realname
+tmp
+description
+prfree
+data
+notifyemittersofattachmentlist
+mimedisplayoptions
+opt
+nsmsgattachmentdata
+data
+print
+nsmsgattachmentdata
+tmp
+data
+tmp
+tmp
+url
+tmp
+realname
+tmp
+nscautostring
+spec
+tmp
+url
+tmp
+url
+getspec
+spec
+mimeemitterstartattachment
+opt
+tmp
+realname
+tmp
+realtype
+spec
+get
+tmp
+notdownloaded
+mimeemitteraddattachmentfield
+opt
+headerxmozillaparturl
+spec
+get
+opt
+formatout
+nsmimeoutput
+nsmimemessagequoting
+opt
+formatout
+nsmimeoutput
+nsmimemessagebodyquoting
+opt
+formatout
+nsmimeoutput
+nsmimemessagesaveas
+opt
+formatout
+nsmimeoutput
+nsmimemessageprintoutput
+mimeemitteraddattachmentfield
+opt
+headercontentdescription
+tmp
+description
+mimeemitteraddattachmentfield
+opt
+headercontenttype
+tmp
+realtype
+mimeemitteraddattachmentfield
+opt
+headercontentencoding
+tmp
+realencoding
+mimeemitterendattachment
+opt
+tmp
+mimeemitterendallattachments
+opt
+nsresult
+nsmimenewuri
+nsiuri
+ainstanceptrresult
+aspec
+nsiuri
+abase
+nsresult
+res
+nsnull
+ainstanceptrresult
+nserrornullpointer
+nscomptr
+nsiioservice
+pservice
+dogetservice
+kioservicecid
+res
+nsfailed
+res
+nserrorfactorynotregistered
+pservice
+newuri
+nsdependentcstring
+aspec
+nsnull
+abase
+ainstanceptrresult
+nsresult
+setmailcharactersettomsgwindow
+mimeobject
+obj
+acharacterset
+nsresult
+rv
+nsok
+obj
+obj
+options
+mimestreamdata
+msd
+mimestreamdata
+obj
+options
+streamclosure
+msd
+nsichannel
+channel
+msd
+channel
+channel
+nscomptr
+nsiuri
+uri
+channel
+geturi
+getteraddrefs
+uri
+uri
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+uri
+msgurl
+nscomptr
+nsimsgwindow
+msgwindow
+msgurl
+getmsgwindow
+getteraddrefs
+msgwindow
+msgwindow
+rv
+msgwindow
+setmailcharacterset
+nscrt
+strcasecmp
+acharacterset
+us
+ascii
+iso
+acharacterset
+rv
+mimefiletype
+filename
+streamclosure
+rettype
+nsnull
+ext
+nsnull
+nsresult
+rv
+ext
+plstrrchr
+filename
+ext
+ext
+nscomptr
+nsimimeservice
+mimefinder
+dogetservice
+nsmimeservicecontractid
+rv
+nssucceeded
+rv
+mimefinder
+mimefinder
+gettypefromextension
+ext
+rettype
+rettype
+convertusingencoderanddecoder
+stringtouse
+print
+inlength
+nsiunicodeencoder
+encoder
+nsiunicodedecoder
+decoder
+pconvertedstring
+print
+outlength
+klocalbufsize
+prunichar
+unichars
+print
+unicharlength
+print
+srclen
+inlength
+print
+dstlength
+dstptr
+nsresult
+rv
+prunichar
+localbuf
+klocalbufsize
+inlength
+klocalbufsize
+rv
+decoder
+getmaxlength
+stringtouse
+srclen
+unicharlength
+unichars
+prunichar
+unicharlength
+unichars
+localbuf
+unicharlength
+klocalbufsize
+unichars
+nsnull
+rv
+nserroroutofmemory
+rv
+decoder
+convert
+stringtouse
+srclen
+unichars
+unicharlength
+nssucceeded
+rv
+rv
+encoder
+getmaxlength
+unichars
+unicharlength
+dstlength
+dstptr
+prmalloc
+dstlength
+dstptr
+nsnull
+rv
+nserroroutofmemory
+print
+bufflength
+dstlength
+rv
+encoder
+setoutputerrorbehavior
+nsiunicodeencoder
+konerrorreplace
+nsnull
+nssucceeded
+rv
+rv
+encoder
+convert
+unichars
+unicharlength
+dstptr
+dstlength
+nssucceeded
+rv
+print
+finlen
+bufflength
+dstlength
+rv
+encoder
+finish
+dstptr
+dstlength
+finlen
+nssucceeded
+rv
+dstlength
+finlen
+dstptr
+dstlength
+pconvertedstring
+dstptr
+outlength
+dstlength
+inlength
+klocalbufsize
+unichars
+nssucceeded
+rv
+mimeconvertcharset
+inputline
+print
+inputlength
+inputcharset
+outputcharset
+outputret
+print
+outputsizeret
+streamclosure
+nsiunicodedecoder
+decoder
+nsiunicodeencoder
+encoder
+print
+res
+convertedstring
+print
+convertedstringlen
+encoder
+decoder
+res
+convertusingencoderanddecoder
+inputline
+inputlength
+encoder
+decoder
+convertedstring
+convertedstringlen
+res
+outputret
+outputsizeret
+outputret
+convertedstring
+outputsizeret
+convertedstringlen
+mimeoutputfn
+buf
+print
+size
+streamclosure
+pruint
+written
+mimestreamdata
+msd
+mimestreamdata
+streamclosure
+msd
+pluginobj
+msd
+outputemitter
+nsstreamconverter
+msd
+pluginobj
+firependingstartrequest
+msd
+options
+parttoload
+msd
+options
+formatout
+nsmimeoutput
+nsmimemessagebodydisplay
+msd
+outputemitter
+msd
+outputemitter
+writebody
+buf
+pruint
+size
+written
+msd
+outputemitter
+msd
+outputemitter
+write
+buf
+pruint
+size
+written
+written
+ifdef
+xpmac
+composeonlyoutputfn
+buf
+print
+size
+streamclosure
+endif
+mimedisplaystreamwrite
+nsmimesession
+stream
+buf
+print
+size
+mimestreamdata
+msd
+mimestreamdata
+nsmimesession
+stream
+dataobject
+mimeobject
+obj
+msd
+msd
+obj
+obj
+msd
+firstcheck
+msd
+channel
+nscomptr
+nsiuri
+auri
+nssucceeded
+msd
+channel
+geturi
+getteraddrefs
+auri
+nscomptr
+nsiimapurl
+imapurl
+doqueryinterface
+auri
+imapurl
+nsimapcontentmodifiedtype
+cmodified
+nssucceeded
+imapurl
+getcontentmodified
+cmodified
+cmodified
+nsimapcontentmodifiedtypes
+imapcontentnotmodified
+msd
+options
+missingparts
+prtrue
+msd
+firstcheck
+prfalse
+obj
+clazz
+parsebuffer
+buf
+size
+obj
+mimedisplaystreamcomplete
+nsmimesession
+stream
+mimestreamdata
+msd
+mimestreamdata
+nsmimesession
+stream
+dataobject
+mimeobject
+obj
+msd
+msd
+obj
+obj
+status
+prbool
+abortnow
+prfalse
+obj
+options
+obj
+options
+prefs
+nsservicemanager
+releaseservice
+kprefcid
+obj
+options
+prefs
+obj
+options
+obj
+options
+headers
+mimeheadersonly
+abortnow
+prtrue
+status
+obj
+clazz
+parseeof
+obj
+abortnow
+obj
+clazz
+parseend
+obj
+status
+prtrue
+prfalse
+msd
+options
+parttoload
+msd
+options
+formatout
+nsmimeoutput
+nsmimemessagebodydisplay
+nsmsgattachmentdata
+attachments
+nsresult
+rv
+mimegetattachmentlist
+obj
+msd
+urlname
+attachments
+nssucceeded
+rv
+notifyemittersofattachmentlist
+msd
+options
+attachments
+mimefreeattachmentlist
+attachments
+obj
+options
+nsifrelease
+obj
+options
+conv
+prassert
+msd
+options
+obj
+options
+mimefree
+obj
+obj
+msd
+options
+msd
+options
+msd
+options
+msd
+headers
+mimeheadersfree
+msd
+headers
+msd
+urlname
+nscrt
+free
+msd
+urlname
+msd
+origurlname
+nscrt
+free
+msd
+origurlname
+prfreeif
+msd
+mimedisplaystreamabort
+nsmimesession
+stream
+status
+mimestreamdata
+msd
+mimestreamdata
+nsmimesession
+stream
+dataobject
+mimeobject
+obj
+msd
+msd
+obj
+obj
+obj
+closedp
+obj
+clazz
+parseeof
+obj
+prtrue
+obj
+parsedp
+obj
+clazz
+parseend
+obj
+prtrue
+prassert
+msd
+options
+obj
+options
+mimefree
+obj
+msd
+options
+msd
+options
+msd
+options
+msd
+headers
+mimeheadersfree
+msd
+headers
+msd
+urlname
+nscrt
+free
+msd
+urlname
+msd
+origurlname
+nscrt
+free
+msd
+origurlname
+prfreeif
+msd
+ifdef
+xpmac
+pruint
+mimeconvertcharstoostype
+ostypestr
+ostypestr
+pruint
+result
+ostypestr
+result
+print
+unhex
+unhex
+result
+result
+unhex
+result
+endif
+mimeoutputinitfn
+type
+charset
+name
+xmactype
+xmaccreator
+streamclosure
+mimestreamdata
+msd
+mimestreamdata
+streamclosure
+msd
+pluginobj
+mimeimagebegin
+imageurl
+contenttype
+streamclosure
+mimeimageend
+imageclosure
+status
+mimeimagemakeimagehtml
+imagedata
+mimeimagewritebuffer
+buf
+print
+size
+imageclosure
+mimeimagestreamdata
+mimeimagestreamdata
+mimestreamdata
+msd
+url
+nsmimesession
+istream
+nscomptr
+nsioutputstream
+memcacheoutputstream
+prbool
+mshouldcacheimage
+mimeimagestreamdata
+mimeimagestreamdata
+url
+nsnull
+istream
+nsnull
+msd
+nsnull
+mshouldcacheimage
+prfalse
+mimeimagebegin
+imageurl
+contenttype
+streamclosure
+mimestreamdata
+msd
+mimestreamdata
+streamclosure
+mimeimagestreamdata
+mid
+mid
+mimeimagestreamdata
+mid
+nsnull
+mid
+msd
+msd
+mid
+url
+nscrt
+strdup
+imageurl
+mid
+url
+prfree
+mid
+nsnull
+msd
+channel
+nscomptr
+nsiuri
+uri
+nsresult
+rv
+msd
+channel
+geturi
+getteraddrefs
+uri
+nssucceeded
+rv
+uri
+nscomptr
+nsimsgmailnewsurl
+mailurl
+doqueryinterface
+uri
+mailurl
+nscomptr
+nsicachesession
+memcachesession
+mailurl
+getimagecachesession
+getteraddrefs
+memcachesession
+memcachesession
+nscomptr
+nsicacheentrydescriptor
+entry
+rv
+memcachesession
+opencacheentry
+imageurl
+nsicache
+accessreadwrite
+nsicache
+blocking
+getteraddrefs
+entry
+nscacheaccessmode
+access
+entry
+entry
+getaccessgranted
+access
+ifdef
+debugbienvenu
+printf
+mime
+opening
+cache
+entry
+access
+ld
+imageurl
+access
+endif
+access
+nsicache
+accesswrite
+access
+nsicache
+accessread
+mailurl
+cachecacheentry
+entry
+entry
+markvalid
+entry
+setmetadataelement
+contenttype
+contenttype
+rv
+entry
+openoutputstream
+getteraddrefs
+mid
+memcacheoutputstream
+nsfailed
+rv
+nsnull
+mid
+istream
+nsmimesession
+msd
+pluginobj
+mid
+mimeimageend
+imageclosure
+status
+mimeimagestreamdata
+mid
+mimeimagestreamdata
+imageclosure
+prassert
+mid
+mid
+mid
+memcacheoutputstream
+mid
+memcacheoutputstream
+close
+prfreeif
+mid
+url
+mid
+mimeimagemakeimagehtml
+imageclosure
+mimeimagestreamdata
+mid
+mimeimagestreamdata
+imageclosure
+prefix
+center
+img
+src
+suffix
+center
+url
+buf
+prassert
+mid
+mid
+mid
+istream
+nscrt
+strdup
+center
+img
+src
+resource
+res
+network
+gopher
+image
+gif
+alt
+image
+center
+mid
+url
+mid
+url
+url
+url
+mid
+url
+buf
+prmalloc
+strlen
+prefix
+strlen
+suffix
+strlen
+url
+buf
+buf
+plstrcat
+buf
+prefix
+plstrcat
+buf
+url
+plstrcat
+buf
+suffix
+buf
+mimeimagewritebuffer
+buf
+print
+size
+imageclosure
+mimeimagestreamdata
+mid
+mimeimagestreamdata
+imageclosure
+mimestreamdata
+msd
+mid
+msd
+msd
+outputemitter
+msd
+pluginobj
+mid
+memcacheoutputstream
+pruint
+byteswritten
+mid
+memcacheoutputstream
+write
+buf
+size
+byteswritten
+size
+mimeobject
+mimegetmainobject
+mimeobject
+obj
+mimecontainer
+cobj
+mimesubclassp
+obj
+clazz
+mimeobjectclass
+mimemessageclass
+obj
+cobj
+mimecontainer
+obj
+cobj
+nchildren
+obj
+obj
+cobj
+children
+obj
+mimesubclassp
+obj
+clazz
+mimeobjectclass
+mimemultipartsignedclass
+plstrcasecmp
+obj
+contenttype
+multipartsigned
+obj
+mimesubclassp
+obj
+clazz
+mimeobjectclass
+mimecontainerclass
+cobj
+mimecontainer
+obj
+cobj
+nchildren
+obj
+cobj
+children
+obj
+nsnull
+obj
+nsnull
+prbool
+mimeobjectchildismessagebody
+mimeobject
+obj
+prbool
+isalternativeorrelated
+disp
+prbool
+bret
+prfalse
+mimeobject
+firstchild
+mimecontainer
+container
+mimecontainer
+obj
+isalternativeorrelated
+isalternativeorrelated
+prfalse
+container
+mimesubclassp
+obj
+clazz
+mimeobjectclass
+mimecontainerclass
+bret
+mimesubclassp
+obj
+clazz
+mimeobjectclass
+mimemultipartrelatedclass
+isalternativeorrelated
+isalternativeorrelated
+prtrue
+bret
+mimesubclassp
+obj
+clazz
+mimeobjectclass
+mimemultipartalternativeclass
+isalternativeorrelated
+isalternativeorrelated
+prtrue
+bret
+container
+children
+firstchild
+container
+children
+firstchild
+firstchild
+contenttype
+firstchild
+headers
+bret
+disp
+mimeheadersget
+firstchild
+headers
+headercontentdisposition
+prtrue
+prfalse
+disp
+bret
+prfalse
+nscrt
+strcasecmp
+firstchild
+contenttype
+textplain
+nscrt
+strcasecmp
+firstchild
+contenttype
+texthtml
+nscrt
+strcasecmp
+firstchild
+contenttype
+textmdl
+nscrt
+strcasecmp
+firstchild
+contenttype
+multipartalternative
+nscrt
+strcasecmp
+firstchild
+contenttype
+multipartrelated
+nscrt
+strcasecmp
+firstchild
+contenttype
+messagenews
+nscrt
+strcasecmp
+firstchild
+contenttype
+messagerfc
+bret
+prtrue
+bret
+prfalse
+prfreeif
+disp
+bret
+nsipref
+getprefservicemanager
+mimedisplayoptions
+opt
+opt
+nsnull
+opt
+prefs
+mozitxttohtmlconv
+gettextconverter
+mimedisplayoptions
+opt
+opt
+nsnull
+opt
+conv
+mimedisplayoptions
+mimedisplayoptions
+conv
+nsnull
+prefs
+nsnull
+formatout
+url
+nsnull
+memset
+headers
+headers
+fancyheadersp
+prfalse
+outputvcardbuttonsp
+prfalse
+fancylinksp
+prfalse
+variablewidthplaintextp
+prfalse
+wraplonglinesp
+prfalse
+rotp
+prfalse
+parttoload
+nsnull
+writehtmlp
+prfalse
+decryptp
+prfalse
+nicehtmlonlyp
+prfalse
+whattodo
+defaultcharset
+nsnull
+overridecharset
+prfalse
+forceusercharset
+prfalse
+streamclosure
+nsnull
+outputinitfn
+nsnull
+outputfn
+nsnull
+outputclosure
+nsnull
+charsetconversionfn
+nsnull
+rfcconversionp
+prfalse
+filetypefn
+nsnull
+passwdpromptfn
+nsnull
+htmlclosure
+nsnull
+generateheaderhtmlfn
+nsnull
+generatepostheaderhtmlfn
+nsnull
+generatefooterhtmlfn
+nsnull
+generatereferenceurlfn
+nsnull
+generatemailtourlfn
+nsnull
+generatenewsurlfn
+nsnull
+imagebegin
+nsnull
+imageend
+nsnull
+imagewritebuffer
+nsnull
+makeimagehtml
+nsnull
+state
+nsnull
+ifdef
+mimedrafts
+decomposefilep
+prfalse
+doneparsingouterheaders
+prfalse
+ismultipartmsg
+prfalse
+decomposeinitcount
+signedp
+prfalse
+callerneedrootheaders
+prfalse
+decomposeheadersinfofn
+nsnull
+decomposefileinitfn
+nsnull
+decomposefileoutputfn
+nsnull
+decomposefileclosefn
+nsnull
+endif
+attachmenticonlayerid
+missingparts
+prfalse
+showattachmentinlinep
+prfalse
+mimedisplayoptions
+mimedisplayoptions
+prfreeif
+parttoload
+prfreeif
+defaultcharset
+mimebridgecreatedisplaystream
+nsimimeemitter
+newemitter
+nsstreamconverter
+newpluginobj
+nsiuri
+uri
+nsmimeoutputtype
+formatout
+pruint
+whattodo
+nsichannel
+achannel
+status
+mimeobject
+obj
+mimestreamdata
+msd
+nsmimesession
+stream
+uri
+nsnull
+msd
+prnewzap
+mimestreamdata
+msd
+msd
+outputemitter
+newemitter
+msd
+firstcheck
+prtrue
+nscautostring
+urlstring
+nsresult
+rv
+msd
+channel
+achannel
+rv
+uri
+getspec
+urlstring
+nssucceeded
+rv
+urlstring
+isempty
+msd
+urlname
+tonewcstring
+urlstring
+msd
+urlname
+prfreeif
+msd
+nscomptr
+nsimsgmessageurl
+msgurl
+doqueryinterface
+uri
+msgurl
+msgurl
+getoriginalspec
+msd
+origurlname
+msd
+formatout
+formatout
+msd
+pluginobj
+newpluginobj
+msd
+options
+mimedisplayoptions
+msd
+options
+prfree
+msd
+msd
+options
+formatout
+formatout
+rv
+nsservicemanager
+getservice
+kprefcid
+nsgetiid
+nsipref
+nsisupports
+msd
+options
+prefs
+msd
+options
+prefs
+nssucceeded
+rv
+prfreeif
+msd
+nsnull
+rv
+nscomponentmanager
+createinstance
+moztxttohtmlconvcontractid
+nsgetiid
+mozitxttohtmlconv
+msd
+options
+conv
+nsfailed
+rv
+nsservicemanager
+releaseservice
+kprefcid
+msd
+options
+prefs
+prfreeif
+msd
+nsnull
+mimeheadertype
+mimeheadersall
+msd
+options
+writehtmlp
+prtrue
+formatout
+nsmimeoutput
+nsmimemessagesplitdisplay
+nsmimeoutput
+nsmimemessageheaderdisplay
+nsmimeoutput
+nsmimemessagebodydisplay
+msd
+options
+fancyheadersp
+prtrue
+msd
+options
+outputvcardbuttonsp
+prtrue
+msd
+options
+fancylinksp
+prtrue
+nsmimeoutput
+nsmimemessagesaveas
+nsmimeoutput
+nsmimemessagequoting
+nsmimeoutput
+nsmimemessageprintoutput
+msd
+options
+fancyheadersp
+prtrue
+msd
+options
+fancylinksp
+prtrue
+nsmimeoutput
+nsmimemessagebodyquoting
+mimeheadertype
+mimeheadersnone
+nsmimeoutput
+nsmimemessageraw
+nsmimeoutput
+nsmimemessagedraftortemplate
+nsmimeoutput
+nsmimemessageeditortemplate
+nsmimeoutput
+nsmimemessagefiltersniffer
+nsmimeoutput
+nsmimemessagedecrypt
+msd
+options
+decryptp
+prtrue
+msd
+options
+writehtmlp
+prfalse
+mimewraplonglines
+prtrue
+msd
+options
+prefs
+msd
+options
+prefs
+getboolpref
+mail
+wraplonglines
+mimewraplonglines
+mimevariablewidthplaintext
+prtrue
+msd
+options
+prefs
+msd
+options
+prefs
+getboolpref
+mail
+fixedwidthmessages
+mimevariablewidthplaintext
+mimevariablewidthplaintext
+mimevariablewidthplaintext
+msd
+options
+wraplonglinesp
+mimewraplonglines
+msd
+options
+headers
+mimeheadertype
+status
+mimeparseurloptions
+msd
+urlname
+msd
+options
+status
+prfreeif
+msd
+options
+parttoload
+prfree
+msd
+options
+prfree
+msd
+msd
+options
+headers
+mimeheadersmicro
+msd
+urlname
+strncmp
+msd
+urlname
+news
+strncmp
+msd
+urlname
+snews
+msd
+options
+headers
+mimeheadersmicroplus
+msd
+options
+url
+msd
+urlname
+msd
+options
+outputinitfn
+mimeoutputinitfn
+msd
+options
+outputfn
+mimeoutputfn
+msd
+options
+whattodo
+whattodo
+msd
+options
+charsetconversionfn
+mimeconvertcharset
+msd
+options
+rfcconversionp
+prtrue
+msd
+options
+filetypefn
+mimefiletype
+msd
+options
+streamclosure
+msd
+msd
+options
+passwdpromptfn
+msd
+options
+imagebegin
+mimeimagebegin
+msd
+options
+imageend
+mimeimageend
+msd
+options
+makeimagehtml
+mimeimagemakeimagehtml
+msd
+options
+imagewritebuffer
+mimeimagewritebuffer
+msd
+options
+variablewidthplaintextp
+mimevariablewidthplaintext
+msd
+options
+forceusercharset
+prfalse
+msd
+options
+prefs
+msd
+options
+prefs
+getboolpref
+mail
+forceusercharset
+msd
+options
+forceusercharset
+msd
+options
+parttoload
+msd
+options
+formatout
+nsmimeoutput
+nsmimemessagebodydisplay
+msd
+options
+writehtmlp
+prfalse
+msd
+options
+prefs
+msd
+options
+prefs
+getboolpref
+mail
+inlineattachments
+msd
+options
+showattachmentinlinep
+obj
+mimenew
+mimeobjectclass
+mimemessageclass
+mimeheaders
+messagerfc
+obj
+msd
+options
+prfree
+msd
+obj
+options
+msd
+options
+msd
+obj
+obj
+prassert
+obj
+options
+decryptp
+obj
+options
+writehtmlp
+stream
+prnew
+nsmimesession
+stream
+msd
+options
+prfree
+msd
+prfree
+obj
+memset
+stream
+stream
+stream
+name
+mime
+conversion
+stream
+stream
+complete
+mimedisplaystreamcomplete
+stream
+abort
+mimedisplaystreamabort
+stream
+putblock
+mimedisplaystreamwrite
+stream
+dataobject
+msd
+status
+obj
+clazz
+initialize
+obj
+status
+status
+obj
+clazz
+parsebegin
+obj
+status
+prfree
+stream
+msd
+options
+prfree
+msd
+prfree
+obj
+stream
+nsimimeemitter
+getmimeemitter
+mimedisplayoptions
+opt
+mimestreamdata
+msd
+mimestreamdata
+opt
+streamclosure
+msd
+nsimimeemitter
+ptr
+nsimimeemitter
+msd
+outputemitter
+ptr
+mimestreamdata
+getmsd
+mimedisplayoptions
+opt
+opt
+nsnull
+mimestreamdata
+msd
+mimestreamdata
+opt
+streamclosure
+msd
+prbool
+noemitterprocessing
+nsmimeoutputtype
+formatout
+formatout
+nsmimeoutput
+nsmimemessagedraftortemplate
+formatout
+nsmimeoutput
+nsmimemessageeditortemplate
+prtrue
+prfalse
+nsresult
+mimeemitteraddattachmentfield
+mimedisplayoptions
+opt
+field
+value
+noemitterprocessing
+opt
+formatout
+nsok
+mimestreamdata
+msd
+getmsd
+opt
+msd
+nserrorfailure
+msd
+outputemitter
+nsimimeemitter
+emitter
+nsimimeemitter
+msd
+outputemitter
+emitter
+addattachmentfield
+field
+value
+nserrorfailure
+nsresult
+mimeemitteraddheaderfield
+mimedisplayoptions
+opt
+field
+value
+noemitterprocessing
+opt
+formatout
+nsok
+mimestreamdata
+msd
+getmsd
+opt
+msd
+nserrorfailure
+msd
+outputemitter
+nsimimeemitter
+emitter
+nsimimeemitter
+msd
+outputemitter
+emitter
+addheaderfield
+field
+value
+nserrorfailure
+nsresult
+mimeemitteraddallheaders
+mimedisplayoptions
+opt
+allheaders
+print
+allheadersize
+noemitterprocessing
+opt
+formatout
+nsok
+mimestreamdata
+msd
+getmsd
+opt
+msd
+nserrorfailure
+msd
+outputemitter
+nsimimeemitter
+emitter
+nsimimeemitter
+msd
+outputemitter
+emitter
+addallheaders
+allheaders
+allheadersize
+nserrorfailure
+nsresult
+mimeemitterstartattachment
+mimedisplayoptions
+opt
+name
+contenttype
+url
+prbool
+anotdownloaded
+noemitterprocessing
+opt
+formatout
+nsok
+mimestreamdata
+msd
+getmsd
+opt
+msd
+nserrorfailure
+msd
+outputemitter
+nsimimeemitter
+emitter
+nsimimeemitter
+msd
+outputemitter
+emitter
+startattachment
+name
+contenttype
+url
+anotdownloaded
+nserrorfailure
+nsresult
+mimeemitterendattachment
+mimedisplayoptions
+opt
+noemitterprocessing
+opt
+formatout
+nsok
+mimestreamdata
+msd
+getmsd
+opt
+msd
+nserrorfailure
+msd
+outputemitter
+nsimimeemitter
+emitter
+nsimimeemitter
+msd
+outputemitter
+emitter
+emitter
+endattachment
+nsok
+nserrorfailure
+nsresult
+mimeemitterendallattachments
+mimedisplayoptions
+opt
+noemitterprocessing
+opt
+formatout
+nsok
+mimestreamdata
+msd
+getmsd
+opt
+msd
+nserrorfailure
+msd
+outputemitter
+nsimimeemitter
+emitter
+nsimimeemitter
+msd
+outputemitter
+emitter
+emitter
+endallattachments
+nsok
+nserrorfailure
+nsresult
+mimeemitterstartbody
+mimedisplayoptions
+opt
+prbool
+bodyonly
+msgid
+outcharset
+noemitterprocessing
+opt
+formatout
+nsok
+mimestreamdata
+msd
+getmsd
+opt
+msd
+nserrorfailure
+msd
+outputemitter
+nsimimeemitter
+emitter
+nsimimeemitter
+msd
+outputemitter
+emitter
+startbody
+bodyonly
+msgid
+outcharset
+nserrorfailure
+nsresult
+mimeemitterendbody
+mimedisplayoptions
+opt
+noemitterprocessing
+opt
+formatout
+nsok
+mimestreamdata
+msd
+getmsd
+opt
+msd
+nserrorfailure
+msd
+outputemitter
+nsimimeemitter
+emitter
+nsimimeemitter
+msd
+outputemitter
+emitter
+endbody
+nserrorfailure
+nsresult
+mimeemitterendheader
+mimedisplayoptions
+opt
+noemitterprocessing
+opt
+formatout
+nsok
+mimestreamdata
+msd
+getmsd
+opt
+msd
+nserrorfailure
+msd
+outputemitter
+nsimimeemitter
+emitter
+nsimimeemitter
+msd
+outputemitter
+emitter
+endheader
+nserrorfailure
+nsresult
+mimeemitterupdatecharacterset
+mimedisplayoptions
+opt
+acharset
+noemitterprocessing
+opt
+formatout
+nsok
+mimestreamdata
+msd
+getmsd
+opt
+msd
+nserrorfailure
+msd
+outputemitter
+nsimimeemitter
+emitter
+nsimimeemitter
+msd
+outputemitter
+emitter
+updatecharacterset
+acharset
+nserrorfailure
+nsresult
+mimeemitterstartheader
+mimedisplayoptions
+opt
+prbool
+rootmailheader
+prbool
+headeronly
+msgid
+outcharset
+noemitterprocessing
+opt
+formatout
+nsok
+mimestreamdata
+msd
+getmsd
+opt
+msd
+nserrorfailure
+msd
+outputemitter
+nsimimeemitter
+emitter
+nsimimeemitter
+msd
+outputemitter
+emitter
+startheader
+rootmailheader
+headeronly
+msgid
+outcharset
+nserrorfailure
+nsresult
+mimesetnewurl
+nsmimesession
+stream
+url
+stream
+url
+url
+nserrorfailure
+mimestreamdata
+msd
+mimestreamdata
+stream
+dataobject
+msd
+nserrorfailure
+tmpptr
+nscrt
+strdup
+url
+tmpptr
+nserrorfailure
+prfreeif
+msd
+urlname
+msd
+urlname
+nscrt
+strdup
+tmpptr
+nsok
+define
+mimeurl
+messenger
+locale
+mime
+properties
+mimegetstringbyid
+print
+stringid
+tempstring
+nsnull
+resultstring
+nsresult
+res
+nsok
+stringbundle
+propertyurl
+propertyurl
+mimeurl
+nscomptr
+nsistringbundleservice
+sbundleservice
+dogetservice
+nsstringbundlecontractid
+res
+nssucceeded
+res
+nsnull
+sbundleservice
+res
+sbundleservice
+createbundle
+propertyurl
+getteraddrefs
+stringbundle
+stringbundle
+nsxpidlstring
+res
+stringbundle
+getstringfromid
+stringid
+gettercopies
+nssucceeded
+res
+tempstring
+tonewutfstring
+tempstring
+tempstring
+nscrt
+strdup
+resultstring
+tempstring
+prcallback
+resetchannelcharset
+mimeobject
+obj
+obj
+options
+obj
+options
+streamclosure
+obj
+options
+defaultcharset
+obj
+headers
+mimestreamdata
+msd
+mimestreamdata
+obj
+options
+streamclosure
+ct
+mimeheadersget
+obj
+headers
+headercontenttype
+prfalse
+prfalse
+ct
+msd
+msd
+channel
+ptr
+strstr
+ct
+charset
+ptr
+msd
+channel
+setcontenttype
+nsdependentcstring
+ct
+mimestreamdata
+msd
+getmsd
+obj
+options
+msd
+msd
+formatout
+nsmimeoutput
+nsmimemessagesaveas
+cset
+nsnull
+ptr
+cset
+nscrt
+strdup
+ptr
+cset
+nscrt
+strdup
+ptr
+cset
+ptr
+cset
+cset
+cset
+cset
+cset
+nscrt
+cr
+cset
+nscrt
+lf
+cset
+ptr
+cset
+prfreeif
+obj
+options
+defaultcharset
+obj
+options
+defaultcharset
+nscrt
+strdup
+cset
+obj
+options
+overridecharset
+prtrue
+prfreeif
+cset
+prfreeif
+ct
+nsresult
+getmailnewsfont
+mimeobject
+obj
+prbool
+stylefixed
+print
+fontpixelsize
+print
+fontsizepercentage
+nscstring
+fontlang
+nsresult
+rv
+nsok
+nsipref
+prefs
+getprefservicemanager
+obj
+options
+prefs
+mimeinlinetext
+text
+mimeinlinetext
+obj
+nscautostring
+charset
+text
+initializecharset
+mimeinlinetextclass
+mimeinlinetextclass
+initializecharset
+obj
+text
+charset
+text
+charset
+charset
+assign
+us
+ascii
+charset
+assign
+text
+charset
+nscomptr
+nsicharsetconvertermanager
+charsetconvertermanager
+nscomptr
+nsiatom
+langgroupatom
+nscautostring
+prefstr
+tolowercase
+charset
+charsetconvertermanager
+dogetservice
+nscharsetconvertermanagercontractid
+rv
+nsfailed
+rv
+rv
+rv
+charsetconvertermanager
+getcharsetlanggroup
+charset
+get
+getteraddrefs
+langgroupatom
+nsfailed
+rv
+rv
+rv
+langgroupatom
+toutfstring
+fontlang
+nsfailed
+rv
+rv
+prefstr
+assign
+stylefixed
+font
+size
+variable
+font
+size
+fixed
+prefstr
+append
+fontlang
+rv
+prefs
+getintpref
+prefstr
+get
+fontpixelsize
+nsfailed
+rv
+rv
+print
+originalsize
+rv
+prefs
+getdefaultintpref
+prefstr
+get
+originalsize
+nsfailed
+rv
+rv
+fontsizepercentage
+originalsize
+print
+fontpixelsize
+originalsize
+nsok
+nsresult
+htmlplaintext
+nsstring
+instring
+nsstring
+outstring
+pruint
+flags
+pruint
+wrapcol
+nsresult
+rv
+nsok
+debugbenb
+printf
+converting
+html
+to
+plaintext
+charstar
+tonewutfstring
+instring
+printf
+html
+source
+is
+charstar
+charstar
+endif
+nscomptr
+nsiparser
+parser
+docreateinstance
+kparsercid
+nsensuretrue
+parser
+nserrorfailure
+nscomptr
+nsicontentsink
+sink
+docreateinstance
+nsplaintextsinkcontractid
+nsensuretrue
+sink
+nserrorfailure
+nscomptr
+nsihtmltotextsink
+textsink
+doqueryinterface
+sink
+nsensuretrue
+textsink
+nserrorfailure
+textsink
+initialize
+outstring
+flags
+wrapcol
+parser
+setcontentsink
+sink
+nscomptr
+nsidtd
+dtd
+docreateinstance
+knavdtdcid
+nsensuretrue
+dtd
+nserrorfailure
+parser
+registerdtd
+dtd
+rv
+parser
+parse
+instring
+nsliteralcstring
+text
+html
+prfalse
+prtrue
+nsfailed
+rv
+nserror
+parse
+failed
+rv
+debugbenb
+charstar
+tonewutfstring
+outstring
+printf
+plaintext
+is
+charstar
+charstar
+endif
+rv
+nsresult
+htmlsanitize
+nsstring
+instring
+nsstring
+outstring
+pruint
+flags
+nsastring
+allowedtags
+nsresult
+rv
+nsok
+debugbenb
+printf
+sanitizing
+html
+charstar
+tonewutfstring
+instring
+printf
+original
+html
+is
+charstar
+charstar
+endif
+nscomptr
+nsiparser
+parser
+docreateinstance
+kparsercid
+nsensuretrue
+parser
+nserrorfailure
+nscomptr
+nsicontentsink
+sink
+docreateinstance
+mozsanitizinghtmlserializercontractid
+nsensuretrue
+sink
+nserrorfailure
+nscomptr
+mozisanitizinghtmlserializer
+sansink
+doqueryinterface
+sink
+nsensuretrue
+sansink
+nserrorfailure
+sansink
+initialize
+outstring
+flags
+allowedtags
+parser
+setcontentsink
+sink
+nscomptr
+nsidtd
+dtd
+docreateinstance
+knavdtdcid
+nsensuretrue
+dtd
+nserrorfailure
+parser
+registerdtd
+dtd
+rv
+parser
+parse
+instring
+nsliteralcstring
+text
+html
+prfalse
+prtrue
+nsfailed
+rv
+nserror
+parse
+failed
+rv
+debugbenb
+charstar
+tonewutfstring
+outstring
+printf
+sanitized
+html
+is
+charstar
+charstar
+endif
+rv
\ No newline at end of file
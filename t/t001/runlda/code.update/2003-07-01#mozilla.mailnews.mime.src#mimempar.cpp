@@ -0,0 +1,23 @@
+mimempar
+prlog
+define
+mimesuperclass
+mimemultipartclass
+mimedefclass
+mimemultipartparallel
+mimemultipartparallelclass
+mimemultipartparallelclass
+mimesuperclass
+mimemultipartparallelclassinitialize
+mimemultipartparallelclass
+clazz
+ifdef
+debug
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+prassert
+oclass
+classinitialized
+endif nsresult
\ No newline at end of file
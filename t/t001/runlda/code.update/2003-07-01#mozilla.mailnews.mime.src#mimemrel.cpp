@@ -0,0 +1,1585 @@
+nscomptr
+mimemrel
+mimemapl
+prmem
+prprf
+prlog
+plstr
+mimemoz
+nsstring
+nsiurl
+nscrt
+msgcore
+nsmimestringresources
+nsmimetypes
+nsfilestream
+nsfilespec
+mimebuf
+nsmsgutils
+nsfilespec
+nsmsgcreatetempfilespec
+tfilename
+define
+mimesuperclass
+mimemultipartclass
+mimedefclass
+mimemultipartrelated
+mimemultipartrelatedclass
+mimemultipartrelatedclass
+mimesuperclass
+mimehashvalue
+mimehashvalue
+mimeobject
+obj
+url
+mobj
+obj
+murl
+nscrt
+strdup
+url
+mimehashvalue
+murl
+prfree
+murl
+mimeobject
+mobj
+murl
+mimestrnchr
+str
+length
+length
+str
+str
+str
+mimemultipartrelatedinitialize
+mimeobject
+obj
+mimemultipartrelated
+relobj
+mimemultipartrelated
+obj
+relobj
+baseurl
+mimeheadersget
+obj
+headers
+headercontentbase
+prfalse
+prfalse
+relobj
+baseurl
+relobj
+baseurl
+mimeheadersget
+obj
+headers
+headercontentlocation
+prfalse
+prfalse
+relobj
+hash
+plnewhashtable
+plhashstring
+plcomparestrings
+plcomparevalues
+plhashallocops
+relobj
+hash
+mimeoutofmemory
+relobj
+inputfilestream
+nsnull
+relobj
+outputfilestream
+nsnull
+mimeobjectclass
+mimesuperclass
+initialize
+obj
+printn
+prcallback
+mimemultipartrelatednukehash
+plhashentry
+table
+printn
+indx
+arg
+table
+key
+prfree
+table
+key
+table
+value
+mimehashvalue
+table
+value
+htenumeratenext
+mimemultipartrelatedfinalize
+mimeobject
+obj
+mimemultipartrelated
+relobj
+mimemultipartrelated
+obj
+prfreeif
+relobj
+baseurl
+prfreeif
+relobj
+curtag
+prfreeif
+relobj
+headbuffer
+relobj
+headbufferfp
+relobj
+headbuffersize
+relobj
+hash
+plhashtableenumerateentries
+relobj
+hash
+mimemultipartrelatednukehash
+plhashtabledestroy
+relobj
+hash
+relobj
+hash
+relobj
+inputfilestream
+relobj
+inputfilestream
+close
+relobj
+inputfilestream
+relobj
+inputfilestream
+nsnull
+relobj
+outputfilestream
+relobj
+outputfilestream
+close
+relobj
+outputfilestream
+relobj
+outputfilestream
+nsnull
+relobj
+filebufferspec
+relobj
+filebufferspec
+delete
+prfalse
+relobj
+filebufferspec
+relobj
+filebufferspec
+nsnull
+mimeobjectclass
+mimesuperclass
+finalize
+obj
+define
+ishex
+define
+nonhex
+ishex
+escapeunescapedpercents
+incomingurl
+inc
+outc
+result
+prmalloc
+strlen
+incomingurl
+result
+inc
+incomingurl
+outc
+result
+inc
+inc
+inc
+inc
+nonhex
+inc
+inc
+nonhex
+inc
+outc
+outc
+outc
+outc
+inc
+outc
+inc
+outc
+result
+escapeformrelsubst
+inurl
+output
+inc
+outc
+temp
+size
+strlen
+inurl
+inc
+inurl
+inc
+inc
+inc
+inc
+size
+output
+prmalloc
+size
+output
+inc
+inurl
+outc
+output
+inc
+inc
+outc
+outc
+outc
+inc
+outc
+outc
+outc
+outc
+inc
+inc
+outc
+temp
+escapeunescapedpercents
+output
+temp
+prfreeif
+output
+output
+temp
+output
+prbool
+mimestartparamexists
+mimeobject
+obj
+mimeobject
+child
+ct
+mimeheadersget
+obj
+headers
+headercontenttype
+prfalse
+prfalse
+st
+ct
+mimeheadersgetparameter
+ct
+headerparmstart
+st
+prfalse
+prfreeif
+st
+prfreeif
+ct
+prtrue
+prbool
+mimethisisstartpart
+mimeobject
+obj
+mimeobject
+child
+prbool
+rval
+prfalse
+ct
+st
+cst
+ct
+mimeheadersget
+obj
+headers
+headercontenttype
+prfalse
+prfalse
+st
+ct
+mimeheadersgetparameter
+ct
+headerparmstart
+st
+prfalse
+cst
+mimeheadersget
+child
+headers
+headercontentid
+prfalse
+prfalse
+cst
+rval
+prfalse
+tmp
+cst
+tmp
+length
+tmp
+length
+strlen
+tmp
+length
+tmp
+length
+tmp
+length
+rval
+nscrt
+strcmp
+st
+tmp
+prfreeif
+st
+prfreeif
+ct
+prfreeif
+cst
+rval
+makeabsoluteurl
+baseurl
+relativeurl
+retstring
+nsnull
+nsiuri
+base
+nsnull
+baseurl
+relativeurl
+relativeurl
+nsnull
+nsmsgsacopy
+retstring
+relativeurl
+retstring
+nsresult
+err
+nsmimenewuri
+base
+baseurl
+nsnull
+err
+nsok
+nsnull
+nscautostring
+spec
+nsiuri
+url
+nsnull
+err
+nsmimenewuri
+url
+relativeurl
+base
+err
+nsok
+done
+err
+url
+getspec
+spec
+err
+retstring
+nsnull
+done
+retstring
+tonewcstring
+spec
+done
+nsifrelease
+url
+nsifrelease
+base
+retstring
+prbool
+mimemultipartrelatedoutputchildp
+mimeobject
+obj
+mimeobject
+child
+mimemultipartrelated
+relobj
+mimemultipartrelated
+obj
+relobj
+headloaded
+mimestartparamexists
+obj
+child
+mimethisisstartpart
+obj
+child
+location
+mimeheadersget
+child
+headers
+headercontentlocation
+prfalse
+prfalse
+location
+tmp
+mimeheadersget
+child
+headers
+headercontentid
+prfalse
+prfalse
+tmp
+tmp
+tmp
+tmp
+length
+tmp
+length
+strlen
+tmp
+length
+tmp
+length
+tmp
+length
+location
+prsmprintf
+cid
+tmp
+prfree
+tmp
+location
+absolute
+baseurl
+mimeheadersget
+child
+headers
+headercontentbase
+prfalse
+prfalse
+absolute
+makeabsoluteurl
+baseurl
+baseurl
+relobj
+baseurl
+location
+prfreeif
+baseurl
+prfree
+location
+absolute
+nscautostring
+partnum
+nscautostring
+imappartnum
+partnum
+adopt
+mimepartaddress
+child
+partnum
+isempty
+obj
+options
+missingparts
+imappart
+mimeimappartaddress
+child
+imappart
+imappartnum
+adopt
+imappart
+mimetypep
+child
+mimeobjectclass
+mimemultipartappledoubleclass
+partnum
+append
+part
+imappartnum
+isempty
+part
+mimeseturlimappart
+obj
+options
+url
+imappartnum
+get
+partnum
+get
+noparturl
+nsnull
+obj
+options
+parttoload
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagebodydisplay
+noparturl
+mimegetbaseurl
+obj
+options
+url
+noparturl
+part
+mimeseturlpart
+noparturl
+partnum
+get
+prfalse
+prfree
+noparturl
+part
+mimeseturlpart
+obj
+options
+url
+partnum
+get
+prfalse
+part
+name
+mimeheadersgetname
+child
+headers
+child
+options
+name
+savepart
+part
+part
+prsmprintf
+filename
+savepart
+name
+prfree
+savepart
+prfree
+name
+temp
+part
+plstrchr
+part
+plstrchr
+part
+plstrchr
+part
+temp
+escapeformrelsubst
+part
+mimehashvalue
+value
+mimehashvalue
+child
+temp
+plhashtableadd
+relobj
+hash
+absolute
+value
+tloc
+tmp
+mimeheadersget
+child
+headers
+headercontentid
+prfalse
+prfalse
+tmp
+tmp
+tmp
+tmp
+length
+tmp
+length
+strlen
+tmp
+length
+tmp
+length
+tmp
+length
+tloc
+prsmprintf
+cid
+tmp
+prfree
+tmp
+tloc
+mimehashvalue
+value
+mimehashvalue
+child
+temp
+plhashtableadd
+relobj
+hash
+tloc
+value
+temp
+temp
+part
+prfree
+temp
+prfree
+part
+baseurl
+relobj
+headloaded
+prtrue
+relobj
+headobj
+child
+relobj
+bufferedhdrs
+mimeheaderscopy
+child
+headers
+baseurl
+mimeheadersget
+child
+headers
+headercontentbase
+prfalse
+prfalse
+baseurl
+baseurl
+mimeheadersget
+child
+headers
+headercontentlocation
+prfalse
+prfalse
+baseurl
+prfreeif
+relobj
+baseurl
+relobj
+baseurl
+baseurl
+obj
+options
+obj
+options
+writehtmlp
+ifdef
+mimedrafts
+obj
+options
+decomposefilep
+endif
+prtrue
+prfalse
+mimemultipartrelatedparsechildline
+mimeobject
+obj
+line
+print
+length
+prbool
+firstlinep
+mimecontainer
+cont
+mimecontainer
+obj
+mimemultipartrelated
+relobj
+mimemultipartrelated
+obj
+status
+mimeobject
+kid
+obj
+options
+obj
+options
+writehtmlp
+ifdef
+mimedrafts
+obj
+options
+decomposefilep
+endif
+mimemultipartclass
+mimesuperclass
+parsechildline
+obj
+line
+length
+firstlinep
+prassert
+cont
+nchildren
+cont
+nchildren
+kid
+cont
+children
+cont
+nchildren
+prassert
+kid
+kid
+kid
+relobj
+headobj
+relobj
+headbuffer
+relobj
+filebufferspec
+targetsize
+targetsize
+relobj
+headbuffer
+prmalloc
+targetsize
+relobj
+headbuffer
+targetsize
+relobj
+headbuffer
+relobj
+headbuffersize
+targetsize
+relobj
+headbuffersize
+relobj
+headbufferfp
+relobj
+headbuffer
+relobj
+filebufferspec
+relobj
+filebufferspec
+nsmsgcreatetempfilespec
+nsma
+relobj
+filebufferspec
+mimeoutofmemory
+relobj
+outputfilestream
+nsoutputfilestream
+relobj
+filebufferspec
+prwronly
+prcreatefile
+relobj
+outputfilestream
+mimeunabletoopentmpfile
+prassert
+relobj
+headbuffer
+relobj
+outputfilestream
+relobj
+headbuffer
+relobj
+headbufferfp
+length
+relobj
+headbuffersize
+memcpy
+relobj
+headbuffer
+relobj
+headbufferfp
+line
+length
+relobj
+headbufferfp
+length
+relobj
+outputfilestream
+relobj
+filebufferspec
+relobj
+filebufferspec
+nsmsgcreatetempfilespec
+nsma
+relobj
+filebufferspec
+mimeoutofmemory
+relobj
+outputfilestream
+nsoutputfilestream
+relobj
+filebufferspec
+prwronly
+prcreatefile
+relobj
+outputfilestream
+mimeunabletoopentmpfile
+relobj
+headbuffer
+relobj
+headbufferfp
+status
+relobj
+outputfilestream
+write
+relobj
+headbuffer
+relobj
+headbufferfp
+status
+relobj
+headbufferfp
+mimeunabletoopentmpfile
+prfreeif
+relobj
+headbuffer
+relobj
+headbufferfp
+relobj
+headbuffersize
+status
+relobj
+outputfilestream
+write
+line
+length
+status
+length
+status
+realwrite
+mimemultipartrelated
+relobj
+buf
+print
+size
+mimeobject
+obj
+mimeobject
+relobj
+closure
+relobj
+realoutputclosure
+ifdef
+mimedrafts
+obj
+options
+obj
+options
+decomposefilep
+obj
+options
+decomposefileoutputfn
+obj
+options
+decomposefileoutputfn
+buf
+size
+obj
+options
+streamclosure
+endif
+closure
+mimeobject
+lobj
+mimeobject
+relobj
+closure
+lobj
+options
+streamclosure
+relobj
+realoutputfn
+buf
+size
+closure
+pushtag
+mimemultipartrelated
+relobj
+buf
+print
+size
+size
+relobj
+curtaglength
+relobj
+curtagmax
+relobj
+curtagmax
+size
+relobj
+curtagmax
+relobj
+curtagmax
+relobj
+curtag
+relobj
+curtag
+prmalloc
+relobj
+curtagmax
+relobj
+curtag
+prrealloc
+relobj
+curtag
+relobj
+curtagmax
+relobj
+curtag
+mimeoutofmemory
+memcpy
+relobj
+curtag
+relobj
+curtaglength
+buf
+size
+relobj
+curtaglength
+size
+prbool
+acceptrelatedpart
+mimemultipartrelated
+relobj
+mimeobject
+partobj
+relobj
+partobj
+prfalse
+mimeobjectclass
+clazz
+mimefindclass
+partobj
+contenttype
+partobj
+headers
+partobj
+options
+prfalse
+clazz
+clazz
+displayableinlinep
+clazz
+partobj
+headers
+prfalse
+prtrue
+relobj
+curtag
+relobj
+curtaglength
+relobj
+curtag
+relobj
+curtag
+nscrt
+isasciispace
+relobj
+curtag
+flushtag
+mimemultipartrelated
+relobj
+length
+relobj
+curtaglength
+buf
+status
+relobj
+curtag
+length
+status
+pushtag
+relobj
+status
+status
+buf
+relobj
+curtag
+prassert
+buf
+buf
+length
+buf
+absolute
+parturl
+ptr
+buf
+ptr
+prbool
+isquote
+prfalse
+ptr
+ptr
+ptr
+ptr
+ptr
+ptr
+isquote
+prtrue
+ptr
+nscrt
+isasciispace
+ptr
+status
+realwrite
+relobj
+buf
+ptr
+buf
+status
+status
+buf
+ptr
+buf
+isquote
+ptr
+mimestrnchr
+buf
+length
+buf
+relobj
+curtag
+ptr
+buf
+ptr
+ptr
+ptr
+nscrt
+isasciispace
+ptr
+prassert
+ptr
+ptr
+ptr
+buf
+ptr
+ptr
+buf
+ptr
+ptr
+nscrt
+isasciispace
+ptr
+ptr
+ptr
+buf
+buf
+buf
+buf
+buf
+buf
+buf
+buf
+buf
+buf
+buf
+ptr
+ptr
+absolute
+makeabsoluteurl
+relobj
+baseurl
+buf
+parturl
+nsnull
+mimehashvalue
+value
+nsnull
+absolute
+value
+mimehashvalue
+plhashtablelookup
+relobj
+hash
+buf
+parturl
+value
+value
+murl
+nsnull
+prfreeif
+absolute
+parturl
+acceptrelatedpart
+relobj
+value
+mobj
+status
+realwrite
+relobj
+parturl
+strlen
+parturl
+status
+status
+buf
+ptr
+value
+mobj
+value
+mobj
+dontshowasattachment
+prtrue
+ptr
+holder
+ptr
+realout
+ptr
+absolute
+makeabsoluteurl
+relobj
+baseurl
+buf
+mimehashvalue
+value
+absolute
+value
+mimehashvalue
+plhashtablelookup
+relobj
+hash
+absolute
+value
+mimehashvalue
+plhashtablelookup
+relobj
+hash
+buf
+realout
+value
+value
+murl
+nsnull
+ptr
+holder
+prfreeif
+absolute
+realout
+acceptrelatedpart
+relobj
+value
+mobj
+status
+realwrite
+relobj
+realout
+strlen
+realout
+status
+status
+buf
+ptr
+value
+mobj
+value
+mobj
+dontshowasattachment
+prtrue
+ptr
+ptr
+nscrt
+isasciispace
+ptr
+ptr
+status
+realwrite
+relobj
+buf
+ptr
+buf
+status
+status
+buf
+ptr
+buf
+buf
+status
+realwrite
+relobj
+buf
+strlen
+buf
+status
+status
+relobj
+curtaglength
+mimemultipartrelatedoutputfn
+buf
+print
+size
+streamclosure
+mimemultipartrelated
+relobj
+mimemultipartrelated
+streamclosure
+ptr
+print
+delta
+status
+size
+relobj
+curtaglength
+ptr
+mimestrnchr
+buf
+size
+ptr
+pushtag
+relobj
+buf
+size
+delta
+ptr
+buf
+status
+pushtag
+relobj
+buf
+delta
+status
+status
+status
+flushtag
+relobj
+status
+status
+buf
+delta
+size
+delta
+ptr
+mimestrnchr
+buf
+size
+ptr
+ptr
+buf
+size
+ptr
+ptr
+realwrite
+relobj
+buf
+size
+delta
+ptr
+buf
+status
+realwrite
+relobj
+buf
+delta
+status
+status
+buf
+delta
+size
+delta
+prassert
+relobj
+curtaglength
+status
+pushtag
+relobj
+buf
+status
+status
+prassert
+relobj
+curtaglength
+buf
+size
+mimemultipartrelatedparseeof
+mimeobject
+obj
+prbool
+abortp
+mimemultipartrelated
+relobj
+mimemultipartrelated
+obj
+status
+mimeobject
+body
+ct
+dct
+status
+mimeobjectclass
+mimesuperclass
+parseeof
+obj
+abortp
+status
+fail
+relobj
+headobj
+ct
+relobj
+bufferedhdrs
+mimeheadersget
+relobj
+bufferedhdrs
+headercontenttype
+prtrue
+prfalse
+dct
+mimemultipartclass
+obj
+clazz
+defaultparttype
+relobj
+realoutputfn
+obj
+options
+outputfn
+relobj
+realoutputclosure
+obj
+options
+outputclosure
+obj
+options
+outputfn
+mimemultipartrelatedoutputfn
+obj
+options
+outputclosure
+obj
+body
+mimecreate
+ct
+ct
+ct
+dct
+dct
+texthtml
+relobj
+bufferedhdrs
+obj
+options
+body
+status
+mimeoutofmemory
+fail
+status
+mimecontainerclass
+obj
+clazz
+addchild
+obj
+body
+status
+mimefree
+body
+fail
+body
+dontshowasattachment
+body
+clazz
+displayableinlinep
+body
+clazz
+body
+headers
+ifdef
+mimedrafts
+obj
+options
+obj
+options
+decomposefilep
+obj
+options
+decomposefileinitfn
+relobj
+filebufferspec
+relobj
+headbuffer
+status
+obj
+options
+decomposefileinitfn
+obj
+options
+streamclosure
+relobj
+bufferedhdrs
+status
+status
+endif
+status
+body
+clazz
+parsebegin
+body
+status
+fail
+relobj
+headbuffer
+prassert
+relobj
+filebufferspec
+relobj
+inputfilestream
+status
+body
+clazz
+parsebuffer
+relobj
+headbuffer
+relobj
+headbufferfp
+body
+relobj
+filebufferspec
+buf
+print
+bufsize
+prassert
+relobj
+headbuffersize
+relobj
+headbufferfp
+prassert
+relobj
+filebufferspec
+relobj
+filebufferspec
+status
+fail
+buf
+prmalloc
+bufsize
+buf
+status
+mimeoutofmemory
+fail
+relobj
+outputfilestream
+relobj
+outputfilestream
+close
+relobj
+inputfilestream
+nsinputfilestream
+relobj
+filebufferspec
+relobj
+inputfilestream
+prfree
+buf
+status
+mimeunabletoopentmpfile
+fail
+print
+rstatus
+relobj
+inputfilestream
+read
+buf
+bufsize
+rstatus
+status
+rstatus
+status
+body
+clazz
+parsebuffer
+buf
+rstatus
+body
+status
+prfree
+buf
+status
+fail
+status
+body
+clazz
+parseeof
+body
+prfalse
+status
+fail
+status
+body
+clazz
+parseend
+body
+prfalse
+status
+fail
+fail
+ifdef
+mimedrafts
+obj
+options
+obj
+options
+decomposefilep
+obj
+options
+decomposefileclosefn
+relobj
+filebufferspec
+relobj
+headbuffer
+status
+obj
+options
+decomposefileclosefn
+obj
+options
+streamclosure
+status
+status
+endif
+relobj
+headobj
+obj
+options
+outputfn
+relobj
+realoutputfn
+obj
+options
+outputclosure
+relobj
+realoutputclosure
+status
+mimemultipartrelatedclassinitialize
+mimemultipartrelatedclass
+clazz
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+mimemultipartclass
+mclass
+mimemultipartclass
+clazz
+prassert
+oclass
+classinitialized
+oclass
+initialize
+mimemultipartrelatedinitialize
+oclass
+finalize
+mimemultipartrelatedfinalize
+oclass
+parseeof
+mimemultipartrelatedparseeof
+mclass
+outputchildp
+mimemultipartrelatedoutputchildp
+mclass
+parsechildline
+mimemultipartrelatedparsechildline nsresult
\ No newline at end of file
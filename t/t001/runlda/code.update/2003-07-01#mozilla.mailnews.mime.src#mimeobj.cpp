@@ -0,0 +1,551 @@
+mimeobj
+prmem
+plstr
+prio
+mimebuf
+prlog
+nsmimetypes
+nscrt
+nsmimestringresources
+mimemsg
+mimemapl
+mimetpla
+mimethtm
+mimecont
+mimedefclass
+mimeobject
+mimeobjectclass
+mimeobjectclass
+mimeobjectinitialize
+mimeobject
+mimeobjectfinalize
+mimeobject
+mimeobjectparsebegin
+mimeobject
+mimeobjectparsebuffer
+print
+mimeobject
+mimeobjectparseline
+print
+mimeobject
+mimeobjectparseeof
+mimeobject
+prbool
+mimeobjectparseend
+mimeobject
+prbool
+prbool
+mimeobjectdisplayableinlinep
+mimeobjectclass
+clazz
+mimeheaders
+hdrs
+defined
+debug
+defined
+xpunix
+mimeobjectdebugprint
+mimeobject
+prfiledesc
+print
+depth
+endif
+mimeobjectclassinitialize
+mimeobjectclass
+clazz
+nsassertion
+clazz
+classinitialized
+shouldn
+already
+be
+initialized
+clazz
+initialize
+mimeobjectinitialize
+clazz
+finalize
+mimeobjectfinalize
+clazz
+parsebegin
+mimeobjectparsebegin
+clazz
+parsebuffer
+mimeobjectparsebuffer
+clazz
+parseline
+mimeobjectparseline
+clazz
+parseeof
+mimeobjectparseeof
+clazz
+parseend
+mimeobjectparseend
+clazz
+displayableinlinep
+mimeobjectdisplayableinlinep
+defined
+debug
+defined
+xpunix
+clazz
+debugprint
+mimeobjectdebugprint
+endif
+mimeobjectinitialize
+mimeobject
+obj
+nsassertion
+obj
+clazz
+mimeobjectclass
+should
+directly
+instantiate
+obj
+contenttype
+obj
+headers
+obj
+contenttype
+mimeheadersget
+obj
+headers
+headercontenttype
+prtrue
+prfalse
+obj
+encoding
+obj
+headers
+obj
+encoding
+mimeheadersget
+obj
+headers
+headercontenttransferencoding
+prtrue
+prfalse
+obj
+contenttype
+nscrt
+strcasecmp
+obj
+contenttype
+applicationuuencode
+nscrt
+strcasecmp
+obj
+contenttype
+applicationuuencode
+nscrt
+strcasecmp
+obj
+contenttype
+applicationuuencode
+prfree
+obj
+contenttype
+obj
+contenttype
+nscrt
+strdup
+applicationuuencode
+nscrt
+strcasecmp
+obj
+contenttype
+imagexbm
+nscrt
+strcasecmp
+obj
+contenttype
+imagexbm
+prfree
+obj
+contenttype
+obj
+contenttype
+nscrt
+strdup
+imagexbm
+obj
+encoding
+nscrt
+strcasecmp
+obj
+encoding
+encodinguuencode
+nscrt
+strcasecmp
+obj
+encoding
+encodinguuencode
+nscrt
+strcasecmp
+obj
+encoding
+encodinguuencode
+prfree
+obj
+encoding
+obj
+encoding
+nscrt
+strdup
+encodinguuencode
+nscrt
+strcasecmp
+obj
+encoding
+encodingcompress
+prfree
+obj
+encoding
+obj
+encoding
+nscrt
+strdup
+encodingcompress
+nscrt
+strcasecmp
+obj
+encoding
+encodinggzip
+prfree
+obj
+encoding
+obj
+encoding
+nscrt
+strdup
+encodinggzip
+mimeobjectfinalize
+mimeobject
+obj
+obj
+clazz
+parseeof
+obj
+prfalse
+obj
+clazz
+parseend
+obj
+prfalse
+obj
+headers
+mimeheadersfree
+obj
+headers
+obj
+headers
+nsassertion
+obj
+ibuffer
+buffer
+freed
+nsassertion
+obj
+obuffer
+buffer
+freed
+prfreeif
+obj
+ibuffer
+prfreeif
+obj
+obuffer
+prfreeif
+obj
+contenttype
+prfreeif
+obj
+encoding
+obj
+options
+obj
+options
+state
+prfree
+obj
+options
+state
+obj
+options
+state
+mimeobjectparsebegin
+mimeobject
+obj
+nsassertion
+obj
+closedp
+object
+shouldn
+be
+already
+closed
+obj
+options
+obj
+options
+state
+nsassertion
+obj
+headers
+headers
+should
+be
+obj
+options
+state
+prnew
+mimeparsestateobject
+obj
+options
+state
+mimeoutofmemory
+memset
+obj
+options
+state
+obj
+options
+state
+obj
+options
+state
+root
+obj
+obj
+options
+state
+separatorsuppressedp
+prtrue
+obj
+options
+obj
+options
+outputfn
+obj
+options
+decomposefilep
+obj
+options
+decomposefileoutputfn
+mimetypep
+obj
+mimeobjectclass
+mimemultipartclass
+obj
+outputp
+prfalse
+obj
+options
+parttoload
+obj
+outputp
+prtrue
+id
+mimepartaddress
+obj
+id
+mimeoutofmemory
+obj
+outputp
+prfalse
+prbool
+exactmatch
+strcmp
+id
+obj
+options
+parttoload
+exactmatch
+obj
+outputp
+prtrue
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessageraw
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagebodydisplay
+obj
+outputp
+strncmp
+id
+obj
+options
+parttoload
+strlen
+obj
+options
+parttoload
+prfree
+id
+obj
+options
+obj
+options
+nicehtmlonlyp
+mimesubclassp
+obj
+clazz
+mimeobjectclass
+mimeinlinetexthtmlclass
+mimesubclassp
+obj
+clazz
+mimeobjectclass
+mimeinlinetextplainclass
+mimesubclassp
+obj
+clazz
+mimeobjectclass
+mimecontainerclass
+obj
+outputp
+prfalse
+mimeobjectparsebuffer
+buffer
+print
+size
+mimeobject
+obj
+nsassertion
+obj
+closedp
+object
+shouldn
+be
+closed
+obj
+closedp
+mimelinebuffer
+buffer
+size
+obj
+ibuffer
+obj
+ibuffersize
+obj
+ibufferfp
+prtrue
+prcallback
+print
+obj
+clazz
+parseline
+obj
+mimeobjectparseline
+line
+print
+length
+mimeobject
+obj
+nsassertion
+shouldn
+call
+method
+mimeobjectparseeof
+mimeobject
+obj
+prbool
+abortp
+obj
+closedp
+nsassertion
+obj
+parsedp
+obj
+already
+parsed
+abortp
+obj
+ibufferfp
+status
+obj
+clazz
+parseline
+obj
+ibuffer
+obj
+ibufferfp
+obj
+obj
+ibufferfp
+status
+obj
+closedp
+prtrue
+status
+obj
+closedp
+prtrue
+mimeobjectparseend
+mimeobject
+obj
+prbool
+abortp
+obj
+parsedp
+nsassertion
+obj
+closedp
+object
+should
+be
+closed
+prfreeif
+obj
+ibuffer
+obj
+ibufferfp
+obj
+ibuffersize
+prfreeif
+obj
+obuffer
+obj
+obufferfp
+obj
+obuffersize
+obj
+parsedp
+prtrue
+prbool
+mimeobjectdisplayableinlinep
+mimeobjectclass
+clazz
+mimeheaders
+hdrs
+nsassertion
+shouldn
+call
+method
+prfalse
+defined
+debug
+defined
+xpunix
+mimeobjectdebugprint
+mimeobject
+obj
+prfiledesc
+stream
+print
+depth
+addr
+mimepartaddress
+obj
+depth
+prwrite
+stream
+prfreeif
+addr
+endif nsresult
\ No newline at end of file
@@ -0,0 +1,30 @@
+mimetenr
+prlog
+define
+mimesuperclass
+mimeinlinetextrichtextclass
+mimedefclass
+mimeinlinetextenriched
+mimeinlinetextenrichedclass
+mimeinlinetextenrichedclass
+mimesuperclass
+mimeinlinetextenrichedclassinitialize
+mimeinlinetextenrichedclass
+clazz
+ifdef
+debug
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+prassert
+oclass
+classinitialized
+endif
+mimeinlinetextrichtextclass
+rclass
+mimeinlinetextrichtextclass
+clazz
+rclass
+enrichedp
+prtrue
\ No newline at end of file
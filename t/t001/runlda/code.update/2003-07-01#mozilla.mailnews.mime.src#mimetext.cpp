@@ -0,0 +1,825 @@
+mimetext
+mimebuf
+mimethtm
+comin
+mimemoz
+prlog
+prmem
+plstr
+nscrt
+nsipref
+nsiservicemanager
+nsmimetypes
+nsreadableutils
+define
+mimesuperclass
+mimeleafclass
+mimedefclass
+mimeinlinetext
+mimeinlinetextclass
+mimeinlinetextclass
+mimesuperclass
+mimeinlinetextinitialize
+mimeobject
+mimeinlinetextfinalize
+mimeobject
+mimeinlinetextrotline
+mimeobject
+line
+print
+length
+mimeinlinetextparseeof
+mimeobject
+obj
+prbool
+abortp
+mimeinlinetextparseend
+mimeobject
+prbool
+mimeinlinetextparsedecodedbuffer
+print
+mimeobject
+mimeinlinetextrotateconvertandparseline
+print
+mimeobject
+mimeinlinetextopendam
+line
+print
+length
+mimeobject
+obj
+mimeinlinetextinitializecharset
+mimeobject
+obj
+mimeinlinetextclassinitialize
+mimeinlinetextclass
+clazz
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+mimeleafclass
+lclass
+mimeleafclass
+clazz
+prassert
+oclass
+classinitialized
+oclass
+initialize
+mimeinlinetextinitialize
+oclass
+finalize
+mimeinlinetextfinalize
+oclass
+parseeof
+mimeinlinetextparseeof
+oclass
+parseend
+mimeinlinetextparseend
+clazz
+rotline
+mimeinlinetextrotline
+clazz
+initializecharset
+mimeinlinetextinitializecharset
+lclass
+parsedecodedbuffer
+mimeinlinetextparsedecodedbuffer
+nsdefinecid
+kprefservicecid
+nsprefcid
+mimeinlinetextinitialize
+mimeobject
+obj
+prassert
+obj
+clazz
+mimeobjectclass
+mimeinlinetextclass
+mimeinlinetext
+obj
+initializecharset
+prfalse
+mimeinlinetext
+obj
+needupdatemsgwincharset
+prfalse
+mimeobjectclass
+mimesuperclass
+initialize
+obj
+mimeinlinetextinitializecharset
+mimeobject
+obj
+mimeinlinetext
+text
+mimeinlinetext
+obj
+text
+inputautodetect
+prfalse
+text
+charsetoverridable
+prfalse
+text
+charset
+obj
+headers
+obj
+options
+obj
+options
+overridecharset
+text
+charset
+nscrt
+strdup
+obj
+options
+defaultcharset
+ct
+mimeheadersget
+obj
+headers
+headercontenttype
+prfalse
+prfalse
+ct
+text
+charset
+mimeheadersgetparameter
+ct
+charset
+prfree
+ct
+text
+charset
+text
+charset
+mimeheadersget
+obj
+headers
+headerxsuncharset
+prfalse
+prfalse
+text
+charset
+nsresult
+res
+nsxpidlstring
+detectorname
+text
+charsetoverridable
+prtrue
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+res
+nssucceeded
+res
+nssucceeded
+prefs
+getlocalizedunicharpref
+intl
+charset
+detector
+gettercopies
+detectorname
+text
+inputautodetect
+prtrue
+obj
+options
+obj
+options
+defaultcharset
+text
+charset
+nscrt
+strdup
+obj
+options
+defaultcharset
+nsresult
+rv
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefservicecid
+rv
+nssucceeded
+rv
+prefs
+nsxpidlstring
+value
+rv
+prefs
+getlocalizedunicharpref
+mailnews
+viewdefaultcharset
+gettercopies
+value
+nssucceeded
+rv
+text
+charset
+tonewutfstring
+value
+text
+charset
+text
+charset
+nscrt
+strdup
+text
+inputautodetect
+text
+linedambuffer
+prmalloc
+dammaxbuffersize
+text
+linedamptrs
+prmalloc
+dammaxlines
+text
+curdamoffset
+text
+lastlineindam
+text
+linedambuffer
+text
+linedamptrs
+text
+inputautodetect
+prfalse
+prfreeif
+text
+linedambuffer
+prfreeif
+text
+linedamptrs
+text
+initializecharset
+prtrue
+mimeinlinetextfinalize
+mimeobject
+obj
+mimeinlinetext
+text
+mimeinlinetext
+obj
+obj
+clazz
+parseeof
+obj
+prfalse
+obj
+clazz
+parseend
+obj
+prfalse
+text
+inputdecoder
+nsnull
+text
+utfencoder
+nsnull
+prfreeif
+text
+charset
+prassert
+text
+cbuffer
+prfreeif
+text
+cbuffer
+text
+inputautodetect
+prfreeif
+text
+linedambuffer
+prfreeif
+text
+linedamptrs
+text
+inputautodetect
+prfalse
+mimeobjectclass
+mimesuperclass
+finalize
+obj
+mimeinlinetextparseeof
+mimeobject
+obj
+prbool
+abortp
+status
+obj
+closedp
+nsassertion
+obj
+parsedp
+obj
+already
+parsed
+mimeinlinetext
+text
+mimeinlinetext
+obj
+abortp
+obj
+ibufferfp
+status
+mimeinlinetextrotateconvertandparseline
+obj
+ibuffer
+obj
+ibufferfp
+obj
+obj
+ibufferfp
+status
+text
+inputautodetect
+status
+mimeinlinetextopendam
+nsnull
+obj
+obj
+closedp
+prtrue
+status
+text
+inputautodetect
+status
+mimeinlinetextopendam
+nsnull
+obj
+mimeobjectclass
+mimesuperclass
+parseeof
+obj
+abortp
+mimeinlinetextparseend
+mimeobject
+obj
+prbool
+abortp
+mimeinlinetext
+text
+mimeinlinetext
+obj
+obj
+parsedp
+prassert
+obj
+closedp
+prfreeif
+text
+cbuffer
+text
+cbuffersize
+mimeobjectclass
+mimesuperclass
+parseend
+obj
+abortp
+mimeinlinetextrottable
+mimeinlinetextrotline
+mimeobject
+obj
+line
+print
+length
+end
+prassert
+line
+line
+line
+end
+length
+end
+mimeinlinetextrottable
+mimeinlinetextparsedecodedbuffer
+buf
+print
+size
+mimeobject
+obj
+prassert
+obj
+closedp
+obj
+closedp
+prassert
+obj
+outputp
+obj
+options
+obj
+options
+outputfn
+obj
+options
+obj
+options
+writehtmlp
+mimeobjectwrite
+obj
+buf
+size
+prtrue
+mimelinebuffer
+buf
+size
+obj
+ibuffer
+obj
+ibuffersize
+obj
+ibufferfp
+prtrue
+prcallback
+print
+mimeinlinetextrotateconvertandparseline
+obj
+define
+mimeinlinetextgrowcbuffer
+text
+desiredsize
+desiredsize
+text
+cbuffersize
+mimegrowbuffer
+desiredsize
+text
+cbuffer
+text
+cbuffersize
+mimeinlinetextconvertandparseline
+line
+print
+length
+mimeobject
+obj
+status
+converted
+print
+convertedlen
+mimeinlinetext
+text
+mimeinlinetext
+obj
+text
+charsetoverridable
+mimetypep
+obj
+mimeobjectclass
+mimeinlinetexthtmlclass
+mimeinlinetexthtml
+texthtml
+mimeinlinetexthtml
+obj
+texthtml
+charset
+texthtml
+charset
+nscrt
+strcmp
+texthtml
+charset
+text
+charset
+mimegetunicodedecoder
+texthtml
+charset
+getteraddrefs
+text
+inputdecoder
+prfreeif
+text
+charset
+text
+charset
+nscrt
+strdup
+texthtml
+charset
+text
+needupdatemsgwincharset
+text
+charset
+setmailcharactersettomsgwindow
+obj
+text
+charset
+text
+inputdecoder
+nsnull
+mimegetunicodedecoder
+text
+charset
+getteraddrefs
+text
+inputdecoder
+text
+utfencoder
+nsnull
+mimegetunicodeencoder
+utf
+getteraddrefs
+text
+utfencoder
+prbool
+useinputcharsetconverter
+obj
+options
+minputcharsettounicodedecoder
+nscrt
+strcasecmp
+text
+charset
+obj
+options
+charsetforcachedinputdecoder
+get
+useinputcharsetconverter
+status
+obj
+options
+charsetconversionfn
+line
+length
+text
+charset
+utf
+converted
+convertedlen
+obj
+options
+streamclosure
+obj
+options
+minputcharsettounicodedecoder
+obj
+options
+municodetoutfencoder
+status
+obj
+options
+charsetconversionfn
+line
+length
+text
+charset
+utf
+converted
+convertedlen
+obj
+options
+streamclosure
+nsiunicodedecoder
+text
+inputdecoder
+nsiunicodeencoder
+text
+utfencoder
+status
+prfreeif
+converted
+status
+converted
+line
+converted
+length
+convertedlen
+status
+obj
+clazz
+parseline
+line
+length
+obj
+prfreeif
+converted
+status
+mimeinlinetextopendam
+line
+print
+length
+mimeobject
+obj
+mimeinlinetext
+text
+mimeinlinetext
+obj
+detectedcharset
+nsnull
+nsresult
+res
+nsok
+status
+print
+text
+curdamoffset
+length
+res
+mimedetectcharset
+line
+length
+detectedcharset
+res
+mimedetectcharset
+text
+linedambuffer
+text
+curdamoffset
+detectedcharset
+nssucceeded
+res
+detectedcharset
+detectedcharset
+prfreeif
+text
+charset
+text
+charset
+nscrt
+strdup
+detectedcharset
+text
+needupdatemsgwincharset
+text
+charset
+setmailcharactersettomsgwindow
+obj
+text
+charset
+text
+curdamoffset
+text
+lastlineindam
+status
+mimeinlinetextconvertandparseline
+text
+linedamptrs
+text
+linedamptrs
+text
+linedamptrs
+obj
+status
+mimeinlinetextconvertandparseline
+text
+linedamptrs
+text
+linedambuffer
+text
+curdamoffset
+text
+linedamptrs
+obj
+length
+status
+mimeinlinetextconvertandparseline
+line
+length
+obj
+prfree
+text
+linedamptrs
+prfree
+text
+linedambuffer
+text
+linedamptrs
+nsnull
+text
+linedambuffer
+nsnull
+text
+inputautodetect
+prfalse
+status
+mimeinlinetextrotateconvertandparseline
+line
+print
+length
+mimeobject
+obj
+status
+mimeinlinetextclass
+textc
+mimeinlinetextclass
+obj
+clazz
+prassert
+obj
+closedp
+obj
+closedp
+obj
+options
+obj
+options
+rotp
+status
+textc
+rotline
+obj
+line
+length
+status
+status
+prbool
+doconvert
+prtrue
+obj
+contenttype
+plstrcasecmp
+obj
+contenttype
+textvcard
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagesaveas
+doconvert
+prfalse
+obj
+options
+obj
+options
+charsetconversionfn
+obj
+options
+forceusercharset
+doconvert
+mimeinlinetext
+text
+mimeinlinetext
+obj
+text
+initializecharset
+mimeinlinetextinitializecharset
+obj
+text
+needupdatemsgwincharset
+text
+charset
+setmailcharactersettomsgwindow
+obj
+text
+charset
+text
+inputautodetect
+text
+lastlineindam
+dammaxlines
+dammaxbuffersize
+text
+curdamoffset
+length
+status
+mimeinlinetextopendam
+line
+length
+obj
+text
+linedamptrs
+text
+lastlineindam
+text
+linedambuffer
+text
+curdamoffset
+memcpy
+text
+linedamptrs
+text
+lastlineindam
+line
+length
+text
+lastlineindam
+text
+curdamoffset
+length
+status
+mimeinlinetextconvertandparseline
+line
+length
+obj
+status
+obj
+clazz
+parseline
+line
+length
+obj
+status
\ No newline at end of file
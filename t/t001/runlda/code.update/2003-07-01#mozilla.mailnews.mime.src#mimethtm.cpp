@@ -0,0 +1,322 @@
+mimethtm
+prmem
+plstr
+prlog
+prprf
+msgcore
+nsmimestringresources
+mimemoz
+define
+mimesuperclass
+mimeinlinetextclass
+mimedefclass
+mimeinlinetexthtml
+mimeinlinetexthtmlclass
+mimeinlinetexthtmlclass
+mimesuperclass
+mimeinlinetexthtmlparseline
+print
+mimeobject
+mimeinlinetexthtmlparseeof
+mimeobject
+prbool
+mimeinlinetexthtmlparsebegin
+mimeobject
+obj
+mimeinlinetexthtmlclassinitialize
+mimeinlinetexthtmlclass
+clazz
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+prassert
+oclass
+classinitialized
+oclass
+parsebegin
+mimeinlinetexthtmlparsebegin
+oclass
+parseline
+mimeinlinetexthtmlparseline
+oclass
+parseeof
+mimeinlinetexthtmlparseeof
+mimeinlinetexthtmlparsebegin
+mimeobject
+obj
+status
+mimeobjectclass
+mimeleafclass
+parsebegin
+obj
+status
+status
+obj
+outputp
+nsmimeoutput
+nsmimemessagebodydisplay
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessageprintoutput
+obj
+options
+formatout
+buf
+print
+fontsize
+print
+fontsizepercentage
+nscautostring
+fontlang
+nssucceeded
+getmailnewsfont
+obj
+prfalse
+fontsize
+fontsizepercentage
+fontlang
+prsnprintf
+buf
+div
+moz
+text
+html
+lang
+fontlang
+get
+status
+mimeobjectwrite
+obj
+buf
+strlen
+buf
+prfalse
+status
+mimeobjectwrite
+obj
+div
+moz
+text
+html
+prfalse
+status
+status
+mimeinlinetexthtml
+texthtml
+mimeinlinetexthtml
+obj
+texthtml
+charset
+nsnull
+obj
+options
+obj
+options
+writehtmlp
+obj
+options
+outputfn
+basehdr
+mimeheadersget
+obj
+headers
+headercontentbase
+prfalse
+prfalse
+basehdr
+basehdr
+mimeheadersget
+obj
+headers
+headercontentlocation
+prfalse
+prfalse
+basehdr
+buf
+prmalloc
+strlen
+basehdr
+in
+out
+buf
+mimeoutofmemory
+plstrcpy
+buf
+base
+href
+out
+buf
+strlen
+buf
+in
+basehdr
+in
+in
+nscrt
+isasciispace
+in
+in
+out
+in
+out
+out
+out
+prfree
+basehdr
+status
+mimeobjectwrite
+obj
+buf
+strlen
+buf
+prfalse
+prfree
+buf
+status
+status
+status
+mimeobjectwriteseparator
+obj
+status
+status
+mimeinlinetexthtmlparseline
+line
+print
+length
+mimeobject
+obj
+mimeinlinetexthtml
+texthtml
+mimeinlinetexthtml
+obj
+obj
+outputp
+obj
+options
+obj
+options
+outputfn
+texthtml
+charset
+cp
+cp
+plstrncasestr
+line
+meta
+length
+cp
+plstrncasestr
+cp
+http
+equiv
+length
+cp
+line
+cp
+plstrncasestr
+cp
+content
+length
+cp
+line
+cp
+plstrncasestr
+cp
+charset
+length
+cp
+line
+cp
+cp
+cp
+plstrnpbrk
+cp
+length
+cp
+line
+cp
+charset
+plstrndup
+cp
+cp
+cp
+charset
+nsnull
+nscrt
+strncasecmp
+charset
+utf
+nscrt
+strncasecmp
+charset
+utf
+texthtml
+charset
+charset
+texthtml
+charset
+err
+mimeobjectwrite
+obj
+line
+cp
+line
+prtrue
+err
+err
+mimeobjectwrite
+obj
+cp
+length
+cp
+line
+prtrue
+err
+prfreeif
+charset
+mimeobjectwrite
+obj
+line
+length
+prtrue
+mimeinlinetexthtmlparseeof
+mimeobject
+obj
+prbool
+abortp
+status
+mimeinlinetexthtml
+texthtml
+mimeinlinetexthtml
+obj
+obj
+closedp
+prfreeif
+texthtml
+charset
+status
+mimeobjectclass
+mimesuperclass
+parseeof
+obj
+abortp
+status
+status
+nsmimeoutput
+nsmimemessagebodydisplay
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessageprintoutput
+obj
+options
+formatout
+status
+mimeobjectwrite
+obj
+div
+prfalse
\ No newline at end of file
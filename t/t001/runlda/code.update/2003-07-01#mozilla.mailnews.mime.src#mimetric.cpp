@@ -0,0 +1,485 @@
+mimetric
+mimebuf
+prmem
+plstr
+nscrt
+prlog
+msgcore
+define
+mimesuperclass
+mimeinlinetextclass
+mimedefclass
+mimeinlinetextrichtext
+mimeinlinetextrichtextclass
+mimeinlinetextrichtextclass
+mimesuperclass
+mimeinlinetextrichtextparseline
+print
+mimeobject
+mimeinlinetextrichtextparsebegin
+mimeobject
+mimeinlinetextrichtextparseeof
+mimeobject
+prbool
+mimeinlinetextrichtextclassinitialize
+mimeinlinetextrichtextclass
+clazz
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+prassert
+oclass
+classinitialized
+oclass
+parsebegin
+mimeinlinetextrichtextparsebegin
+oclass
+parseline
+mimeinlinetextrichtextparseline
+oclass
+parseeof
+mimeinlinetextrichtextparseeof
+mimerichtextconvert
+line
+print
+length
+outputfn
+buf
+print
+size
+closure
+closure
+obufferp
+print
+obuffersizep
+prbool
+enrichedp
+status
+out
+dataend
+lastend
+thisstart
+thisend
+desiredsize
+desiredsize
+length
+desiredsize
+obuffersizep
+status
+mimegrowbuffer
+desiredsize
+obufferp
+obuffersizep
+status
+status
+enrichedp
+thisstart
+line
+thisstart
+line
+length
+thisstart
+nscrt
+isasciispace
+thisstart
+thisstart
+line
+length
+plstrcpy
+obufferp
+br
+outputfn
+obufferp
+strlen
+obufferp
+closure
+out
+obufferp
+out
+dataend
+line
+length
+lastend
+line
+thisstart
+lastend
+thisend
+thisstart
+thisend
+dataend
+thisstart
+dataend
+thisstart
+thisstart
+thisstart
+thisstart
+thisend
+thisstart
+thisstart
+dataend
+thisstart
+thisend
+thisend
+dataend
+nscrt
+isasciispace
+thisend
+thisend
+thisend
+thisend
+thisend
+thisend
+lastend
+lastend
+thisstart
+memcpy
+out
+lastend
+thisstart
+lastend
+out
+thisstart
+lastend
+out
+thisstart
+dataend
+thisstart
+plstrcpy
+out
+amp
+out
+strlen
+out
+thisstart
+plstrcpy
+out
+gt
+out
+strlen
+out
+enrichedp
+thisstart
+dataend
+thisstart
+thisstart
+plstrcpy
+out
+lt
+out
+strlen
+out
+thisstart
+thisend
+old
+thisstart
+tagopen
+tagclose
+old
+old
+old
+nscrt
+strncasecmp
+bigger
+old
+tagopen
+font
+size
+tagclose
+font
+nscrt
+strncasecmp
+blink
+old
+tagopen
+blink
+tagclose
+blink
+nscrt
+strncasecmp
+bold
+old
+tagopen
+tagclose
+nscrt
+strncasecmp
+center
+old
+tagopen
+center
+tagclose
+center
+enrichedp
+nscrt
+strncasecmp
+comment
+old
+tagopen
+tagclose
+nscrt
+strncasecmp
+excerpt
+old
+tagopen
+blockquote
+tagclose
+blockquote
+nscrt
+strncasecmp
+fixed
+old
+tagopen
+tt
+tagclose
+tt
+enrichedp
+nscrt
+strncasecmp
+flushboth
+old
+tagopen
+align
+left
+tagclose
+nscrt
+strncasecmp
+flushleft
+old
+tagopen
+align
+left
+tagclose
+nscrt
+strncasecmp
+flushright
+old
+tagopen
+align
+right
+tagclose
+enrichedp
+nscrt
+strncasecmp
+footing
+old
+tagopen
+tagclose
+enrichedp
+nscrt
+strncasecmp
+heading
+old
+tagopen
+tagclose
+nscrt
+strncasecmp
+indent
+old
+tagopen
+ul
+tagclose
+ul
+nscrt
+strncasecmp
+indentright
+old
+tagopen
+tagclose
+nscrt
+strncasecmp
+italic
+old
+tagopen
+tagclose
+enrichedp
+nscrt
+strncasecmp
+lt
+old
+tagopen
+lt
+tagclose
+enrichedp
+nscrt
+strncasecmp
+nl
+old
+tagopen
+br
+tagclose
+enrichedp
+nscrt
+strncasecmp
+nofill
+old
+tagopen
+nobr
+tagclose
+nobr
+enrichedp
+nscrt
+strncasecmp
+outdent
+old
+tagopen
+tagclose
+enrichedp
+nscrt
+strncasecmp
+outdentright
+old
+tagopen
+tagclose
+enrichedp
+nscrt
+strncasecmp
+param
+old
+tagopen
+tagclose
+enrichedp
+nscrt
+strncasecmp
+paragraph
+old
+tagopen
+tagclose
+enrichedp
+nscrt
+strncasecmp
+samepage
+old
+tagopen
+tagclose
+enrichedp
+nscrt
+strncasecmp
+signature
+old
+tagopen
+font
+size
+tagclose
+font
+nscrt
+strncasecmp
+smaller
+old
+tagopen
+font
+size
+tagclose
+font
+enrichedp
+nscrt
+strncasecmp
+subscript
+old
+tagopen
+sub
+tagclose
+sub
+enrichedp
+nscrt
+strncasecmp
+superscript
+old
+tagopen
+sup
+tagclose
+sup
+nscrt
+strncasecmp
+underline
+old
+tagopen
+tagclose
+enrichedp
+nscrt
+strncasecmp
+verbatim
+old
+tagopen
+pre
+tagclose
+pre
+thisstart
+tagclose
+plstrcpy
+out
+tagclose
+out
+strlen
+out
+tagopen
+plstrcpy
+out
+tagopen
+out
+strlen
+out
+lastend
+thisend
+thisstart
+lastend
+out
+outputfn
+obufferp
+out
+obufferp
+closure
+mimeinlinetextrichtextparseline
+line
+print
+length
+mimeobject
+obj
+prbool
+enrichedp
+mimeinlinetextrichtextclass
+obj
+clazz
+enrichedp
+mimerichtextconvert
+line
+length
+obj
+options
+outputfn
+obj
+options
+streamclosure
+obj
+obuffer
+obj
+obuffersize
+enrichedp
+mimeinlinetextrichtextparsebegin
+mimeobject
+obj
+status
+mimeobjectclass
+mimesuperclass
+parsebegin
+obj
+status
+status
+mimeobjectwrite
+obj
+prtrue
+mimeinlinetextrichtextparseeof
+mimeobject
+obj
+prbool
+abortp
+status
+obj
+closedp
+status
+mimeobjectclass
+mimesuperclass
+parseeof
+obj
+abortp
+status
+status
\ No newline at end of file
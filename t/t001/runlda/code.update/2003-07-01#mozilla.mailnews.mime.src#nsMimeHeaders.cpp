@@ -0,0 +1,81 @@
+msgcore
+nsmimeheaders
+prmem
+nsmimeheaders
+nsmimeheaders
+mheaders
+nsnull
+nsmimeheaders
+nsmimeheaders
+mheaders
+mimeheadersfree
+mheaders
+nsimplisupports
+nsmimeheaders
+nsimimeheaders
+nsresult
+nsmimeheaders
+initialize
+aallheaders
+print
+allheaderssize
+mheaders
+mimeheadersfree
+mheaders
+mheaders
+mimeheadersnew
+mheaders
+mimeheadersparseline
+aallheaders
+allheaderssize
+mheaders
+nserroroutofmemory
+nsresult
+nsmimeheaders
+extractheader
+headername
+prbool
+getallofthem
+retval
+mheaders
+nserrornotinitialized
+retval
+mimeheadersget
+mheaders
+headername
+prfalse
+getallofthem
+nsok
+nsimethodimp
+nsmimeheaders
+getallheaders
+retval
+mheaders
+nserrornotinitialized
+mheaders
+allheaders
+nserrornullpointer
+allheaders
+prmalloc
+mheaders
+allheadersfp
+nsassertion
+allheaders
+nsmimeheaders
+out
+of
+memory
+allheaders
+nserroroutofmemory
+memcpy
+allheaders
+mheaders
+allheaders
+mheaders
+allheadersfp
+allheaders
+mheaders
+allheadersfp
+retval
+allheaders
+nsok nsresult
\ No newline at end of file
@@ -0,0 +1,1795 @@
+msgcore
+nsxpidlstring
+nsreadableutils
+nsmsgheaderparser
+nsisimpleenumerator
+comin
+prmem
+nsresult
+fillresultsarray
+aname
+aaddress
+prunichar
+aoutgoingemailaddress
+prunichar
+aoutgoingname
+prunichar
+aoutgoingfullname
+nsimsgheaderparser
+aparser
+undef
+freeif
+define
+freeif
+obj
+obj
+prfree
+obj
+obj
+define
+copychar
+len
+nextcharutf
+memcpy
+len
+len
+define
+nextchar
+str
+str
+nextcharutf
+str
+define
+trimwhitespace
+nscrt
+isasciispace
+msgparseheaderaddresses
+line
+names
+addresses
+prbool
+quotenamesp
+prtrue
+prbool
+quoteaddrsp
+prtrue
+prbool
+firstonlyp
+prfalse
+msgquotephraseoraddr
+address
+print
+length
+prbool
+addrp
+nsresult
+msgunquotephraseoraddr
+line
+prbool
+strict
+lineout
+msgextractheaderaddressmailboxes
+line
+msgextractheaderaddressnames
+line
+msgextractheaderaddressname
+line
+msgformatheaderaddresses
+addrs
+count
+prbool
+wraplinesp
+endif
+msgreformatheaderaddresses
+line
+msgremoveduplicateaddresses
+addrs
+otheraddrs
+prbool
+removealiasestome
+msgmakefulladdress
+name
+addr
+nsmsgheaderparser
+nsmsgheaderparser
+nsmsgheaderparser
+nsmsgheaderparser
+nsimplisupports
+nsmsgheaderparser
+nsimsgheaderparser
+nsresult
+fillresultsarray
+aname
+aaddress
+prunichar
+aoutgoingemailaddress
+prunichar
+aoutgoingname
+prunichar
+aoutgoingfullname
+nsimsgheaderparser
+aparser
+nsensurearg
+aparser
+nsresult
+rv
+nsok
+result
+nsnull
+aaddress
+result
+mimedecodemimeheader
+aaddress
+prfalse
+prtrue
+aoutgoingemailaddress
+tonewunicode
+nsconvertutftoucs
+result
+result
+aaddress
+prfreeif
+result
+aname
+result
+mimedecodemimeheader
+aname
+prfalse
+prtrue
+aoutgoingname
+tonewunicode
+nsconvertutftoucs
+result
+result
+aname
+prfreeif
+result
+nsxpidlcstring
+fulladdress
+nsxpidlcstring
+unquotedaddress
+rv
+aparser
+makefulladdress
+utf
+aname
+aaddress
+gettercopies
+fulladdress
+nssucceeded
+rv
+fulladdress
+result
+mimedecodemimeheader
+fulladdress
+nsnull
+prfalse
+prtrue
+result
+fulladdress
+adopt
+result
+aparser
+unquotephraseoraddr
+fulladdress
+prtrue
+gettercopies
+unquotedaddress
+unquotedaddress
+isempty
+fulladdress
+unquotedaddress
+aoutgoingfullname
+tonewunicode
+nsconvertutftoucs
+fulladdress
+get
+aoutgoingfullname
+nsnull
+rv
+nsimethodimp
+nsmsgheaderparser
+parseheaderswitharray
+prunichar
+aline
+prunichar
+aemailaddresses
+prunichar
+anames
+prunichar
+afullnames
+pruint
+anumaddresses
+names
+nsnull
+addresses
+nsnull
+pruint
+numaddresses
+nsresult
+rv
+nsok
+nsautostring
+tempstring
+aline
+utfstring
+tonewutfstring
+tempstring
+rv
+parseheaderaddresses
+utf
+utfstring
+names
+addresses
+numaddresses
+nscrt
+free
+utfstring
+nssucceeded
+rv
+numaddresses
+aemailaddresses
+prunichar
+prmalloc
+prunichar
+numaddresses
+anames
+prunichar
+prmalloc
+prunichar
+numaddresses
+afullnames
+prunichar
+prmalloc
+prunichar
+numaddresses
+prunichar
+outgoingemailaddresses
+aemailaddresses
+prunichar
+outgoingnames
+anames
+prunichar
+outgoingfullnames
+afullnames
+pruint
+index
+currentname
+names
+currentaddress
+addresses
+unquotedname
+nsnull
+index
+numaddresses
+nssucceeded
+unquotephraseoraddr
+currentname
+prtrue
+unquotedname
+rv
+fillresultsarray
+unquotedname
+currentaddress
+outgoingemailaddresses
+index
+outgoingnames
+index
+outgoingfullnames
+index
+rv
+fillresultsarray
+currentname
+currentaddress
+outgoingemailaddresses
+index
+outgoingnames
+index
+outgoingfullnames
+index
+prfreeif
+unquotedname
+currentname
+strlen
+currentname
+currentaddress
+strlen
+currentaddress
+index
+anumaddresses
+numaddresses
+prfreeif
+names
+prfreeif
+addresses
+rv
+nsresult
+nsmsgheaderparser
+parseheaderaddresses
+charset
+line
+names
+addresses
+pruint
+numaddresses
+debug
+line
+nsconvertutftoucs
+line
+get
+endif
+numaddresses
+msgparseheaderaddresses
+line
+names
+addresses
+nsok
+nsresult
+nsmsgheaderparser
+extractheaderaddressmailboxes
+charset
+line
+mailboxes
+mailboxes
+debug
+line
+nsconvertutftoucs
+line
+get
+endif
+mailboxes
+msgextractheaderaddressmailboxes
+line
+nsok
+nserrornullpointer
+nsresult
+nsmsgheaderparser
+extractheaderaddressnames
+charset
+line
+names
+names
+debug
+line
+nsconvertutftoucs
+line
+get
+endif
+names
+msgextractheaderaddressnames
+line
+nsok
+nserrornullpointer
+nsresult
+nsmsgheaderparser
+extractheaderaddressname
+charset
+line
+name
+name
+debug
+line
+nsconvertutftoucs
+line
+get
+endif
+name
+msgextractheaderaddressname
+line
+nsok
+nserrornullpointer
+nsresult
+nsmsgheaderparser
+reformatheaderaddresses
+charset
+line
+reformattedaddress
+reformattedaddress
+debug
+line
+nsconvertutftoucs
+line
+get
+endif
+reformattedaddress
+msgreformatheaderaddresses
+line
+nsok
+nserrornullpointer
+nsresult
+nsmsgheaderparser
+removeduplicateaddresses
+charset
+addrs
+otheraddrs
+prbool
+removealiasestome
+newoutput
+newoutput
+debug
+addrs
+nsconvertutftoucs
+addrs
+get
+otheraddrs
+nsconvertutftoucs
+otheraddrs
+get
+endif
+newoutput
+msgremoveduplicateaddresses
+addrs
+otheraddrs
+removealiasestome
+nsok
+nserrornullpointer
+nsresult
+nsmsgheaderparser
+makefulladdress
+charset
+name
+addr
+fulladdress
+nsensureargpointer
+fulladdress
+debug
+addr
+nsconvertutftoucs
+addr
+get
+endif
+fulladdress
+msgmakefulladdress
+name
+addr
+nsok
+nsresult
+nsmsgheaderparser
+makefulladdresswstring
+prunichar
+name
+prunichar
+addr
+prunichar
+fulladdress
+nsxpidlcstring
+utfstr
+nsresult
+rv
+makefulladdress
+nsnull
+nsconvertucstoutf
+name
+get
+nsconvertucstoutf
+addr
+get
+gettercopies
+utfstr
+nssucceeded
+rv
+fulladdress
+tonewunicode
+nsconvertutftoucs
+utfstr
+get
+fulladdress
+nsnull
+rv
+nserroroutofmemory
+rv
+nsresult
+nsmsgheaderparser
+unquotephraseoraddr
+line
+prbool
+preserveintegrity
+result
+nsensureargpointer
+result
+debug
+line
+nsconvertutftoucs
+line
+get
+endif
+msgunquotephraseoraddr
+line
+preserveintegrity
+result
+nsresult
+nsmsgheaderparser
+unquotephraseoraddrwstring
+prunichar
+line
+prbool
+preserveintegrity
+prunichar
+result
+nsxpidlcstring
+utfstr
+nsresult
+rv
+msgunquotephraseoraddr
+nsconvertucstoutf
+line
+get
+preserveintegrity
+gettercopies
+utfstr
+nssucceeded
+rv
+result
+tonewunicode
+nsconvertutftoucs
+utfstr
+get
+result
+nsnull
+rv
+nserroroutofmemory
+rv
+nsresult
+nsmsgheaderparser
+reformatunquotedaddresses
+prunichar
+line
+prunichar
+result
+nsensureargpointer
+result
+result
+nsnull
+nsconvertucstoutf
+convertedline
+line
+print
+linelen
+convertedline
+length
+print
+outputmaxlen
+linelen
+outputstr
+prmalloc
+outputmaxlen
+outputstr
+nserroroutofmemory
+readptr
+convertedline
+get
+writeptr
+outputstr
+endoutputptr
+outputstr
+outputmaxlen
+endptr
+readptr
+linelen
+startrecipient
+readptr
+reformated
+prbool
+openquotelevel
+prfalse
+prbool
+openquotelevel
+prfalse
+readptr
+endptr
+writeptr
+endoutputptr
+readptr
+readptr
+openquotelevel
+openquotelevel
+readptr
+readptr
+openquotelevel
+openquotelevel
+openquotelevel
+openquotelevel
+readptr
+openquotelevel
+openquotelevel
+tempend
+nsconstcast
+readptr
+tempend
+reformated
+msgreformatheaderaddresses
+startrecipient
+reformated
+strncpy
+writeptr
+reformated
+endoutputptr
+writeptr
+writeptr
+strlen
+reformated
+prfree
+reformated
+strncpy
+writeptr
+startrecipient
+endoutputptr
+writeptr
+writeptr
+strlen
+startrecipient
+writeptr
+writeptr
+tempend
+startrecipient
+readptr
+readptr
+reformated
+msgreformatheaderaddresses
+startrecipient
+reformated
+strncpy
+writeptr
+reformated
+endoutputptr
+writeptr
+prfree
+reformated
+strncpy
+writeptr
+startrecipient
+endoutputptr
+writeptr
+result
+tonewunicode
+nsconvertutftoucs
+outputstr
+prfree
+outputstr
+result
+nsnull
+nserroroutofmemory
+nsok
+nsresult
+nsnewheaderparser
+nsimsgheaderparser
+ainstanceptrresult
+nsprecondition
+nsnull
+ainstanceptrresult
+nsnull
+ptr
+nsnull
+ainstanceptrresult
+nsmsgheaderparser
+parser
+nsmsgheaderparser
+parser
+parser
+queryinterface
+nsgetiid
+nsimsgheaderparser
+ainstanceptrresult
+nserroroutofmemory
+nserrornullpointer
+msgparseheaderaddresses
+line
+names
+addresses
+prbool
+quotenamesp
+prbool
+quoteaddrsp
+prbool
+firstonlyp
+pruint
+addrcount
+sizet
+linelength
+lineend
+thisstart
+namebuf
+nameout
+namestart
+addrbuf
+addrout
+addrstart
+names
+names
+addresses
+addresses
+nsassertion
+line
+line
+linelength
+strlen
+line
+linelength
+namebuf
+prmalloc
+linelength
+namebuf
+nserroroutofmemory
+addrbuf
+prmalloc
+linelength
+addrbuf
+freeif
+namebuf
+nserroroutofmemory
+lineend
+line
+addrout
+addrbuf
+nameout
+namebuf
+namestart
+namebuf
+addrstart
+addrbuf
+thisstart
+line
+lineend
+nscrt
+isasciispace
+lineend
+lineend
+nextchar
+lineend
+lineend
+pruint
+parendepth
+oparen
+mailboxstart
+mailboxend
+lineend
+lineend
+parendepth
+mailboxstart
+mailboxend
+lineend
+lineend
+lineend
+lineend
+leavequotes
+lineend
+parendepth
+mailboxstart
+endquote
+endquote
+lineend
+endquote
+endquote
+plstrstr
+endquote
+endquote
+endquote
+mailbox
+endquote
+plstrstr
+endquote
+comma
+endquote
+plstrstr
+endquote
+mailbox
+comma
+comma
+mailbox
+leavequotes
+addrout
+lineend
+lineend
+lineend
+parendepth
+lineend
+lineend
+addrout
+lineend
+lineend
+lineend
+parendepth
+copychar
+addrout
+lineend
+nextchar
+lineend
+leavequotes
+addrout
+lineend
+parendepth
+oparen
+lineend
+parendepth
+lineend
+parendepth
+mailboxstart
+lineend
+lineend
+mailboxstart
+parendepth
+mailboxend
+lineend
+lineend
+parendepth
+parendepth
+parendepth
+oparen
+nameout
+namestart
+nscrt
+isasciispace
+nameout
+nameout
+nscrt
+isasciispace
+lineend
+lineend
+nscrt
+isasciispace
+nameout
+namestart
+nscrt
+isasciispace
+nameout
+copychar
+nameout
+nextchar
+oparen
+parendepth
+mailboxstart
+mailboxend
+nscrt
+isasciispace
+lineend
+addrout
+addrstart
+nscrt
+isasciispace
+addrout
+copychar
+addrout
+lineend
+nextchar
+lineend
+mailboxend
+nsassertion
+mailboxstart
+nsassertion
+mailboxend
+nameout
+namestart
+thisstart
+nscrt
+isasciispace
+mailboxstart
+mailboxstart
+quotenamesp
+quotenamesp
+mailboxstart
+nameout
+nscrt
+isasciispace
+nameout
+namestart
+nscrt
+isasciispace
+nameout
+copychar
+nameout
+nextchar
+trimwhitespace
+namestart
+nameout
+mailboxend
+nscrt
+isasciispace
+lineend
+lineend
+quotenamesp
+quotenamesp
+lineend
+nameout
+nscrt
+isasciispace
+nameout
+namestart
+nscrt
+isasciispace
+nameout
+copychar
+nameout
+nextchar
+trimwhitespace
+namestart
+nameout
+mailboxstart
+addrout
+addrstart
+mailboxstart
+nscrt
+isasciispace
+mailboxend
+mailboxend
+quoteaddrsp
+quoteaddrsp
+mailboxend
+addrout
+copychar
+addrout
+nextchar
+trimwhitespace
+addrstart
+addrout
+trimwhitespace
+addrstart
+addrout
+trimwhitespace
+namestart
+nameout
+namestart
+namestart
+space
+addrstart
+addrout
+nextchar
+space
+nscrt
+isasciispace
+space
+space
+space
+space
+addrout
+nextchar
+nscrt
+isasciispace
+nameout
+addrcount
+ifdef
+bug
+quotenamesp
+names
+nameout
+namestart
+msgquotephraseoraddr
+namestart
+prfalse
+nameout
+namestart
+endif
+quoteaddrsp
+addresses
+addrout
+addrstart
+msgquotephraseoraddr
+addrstart
+prtrue
+addrout
+addrstart
+addrcount
+firstonlyp
+lineend
+nextchar
+lineend
+lineend
+nscrt
+isasciispace
+lineend
+lineend
+lineend
+thisstart
+lineend
+namestart
+nameout
+addrstart
+addrout
+namebuf
+nameout
+nextchar
+nscrt
+isasciispace
+addrbuf
+addrout
+nextchar
+nscrt
+isasciispace
+names
+names
+namebuf
+prfree
+namebuf
+addresses
+addresses
+addrbuf
+prfree
+addrbuf
+addrcount
+msgquotephraseoraddr
+address
+print
+length
+prbool
+addrp
+quotablecount
+inquote
+unquotablecount
+print
+newlength
+fulllength
+length
+in
+out
+origout
+atsign
+origaddress
+address
+prbool
+userquote
+prfalse
+prbool
+quoteall
+prfalse
+address
+address
+length
+length
+addrp
+address
+address
+in
+address
+in
+nextchar
+in
+in
+length
+in
+address
+address
+in
+nscrt
+isasciidigit
+in
+nscrt
+isasciialpha
+in
+in
+in
+in
+address
+in
+address
+length
+nextchar
+in
+in
+fulllength
+in
+addrp
+atsign
+inquote
+atsign
+quotablecount
+atsign
+in
+address
+in
+address
+in
+in
+unquotablecount
+quotablecount
+userquote
+prtrue
+in
+in
+address
+length
+in
+in
+in
+unquotablecount
+in
+unquotablecount
+inquote
+inquote
+in
+addrp
+in
+in
+in
+in
+in
+in
+in
+quotablecount
+atsign
+in
+in
+quotablecount
+addrp
+in
+quotablecount
+addrp
+in
+in
+in
+in
+quotablecount
+quotablecount
+unquotablecount
+fulllength
+atsign
+userquote
+quotablecount
+quoteall
+prtrue
+atsign
+newlength
+length
+quotablecount
+unquotablecount
+in
+address
+out
+origout
+prmalloc
+newlength
+out
+origaddress
+out
+in
+in
+atsign
+in
+out
+out
+in
+in
+userquote
+in
+address
+in
+atsign
+out
+out
+in
+in
+in
+in
+out
+in
+out
+out
+in
+copychar
+out
+in
+nextchar
+in
+quoteall
+out
+out
+nsassertion
+newlength
+out
+origout
+memcpy
+address
+origout
+newlength
+prfreeif
+origout
+fulllength
+unquotablecount
+nsresult
+msgunquotephraseoraddr
+line
+prbool
+preserveintegrity
+lineout
+line
+lineout
+nsok
+line
+lineout
+nscrt
+strdup
+line
+lineout
+nserroroutofmemory
+nsok
+preserveintegrity
+openquote
+nsnull
+comma
+nsnull
+atsign
+nsnull
+readpos
+line
+readpos
+readpos
+openquote
+comma
+readpos
+readpos
+atsign
+readpos
+readpos
+openquote
+openquote
+readpos
+openquote
+nsnull
+readpos
+comma
+atsign
+lineout
+nscrt
+strdup
+line
+lineout
+nserroroutofmemory
+nsok
+lineout
+nscrt
+strdup
+line
+lineout
+nserroroutofmemory
+lineptr
+line
+outptr
+lineout
+prbool
+escaped
+prfalse
+lineptr
+lineptr
+escaped
+prtrue
+lineptr
+lineptr
+escaped
+lineptr
+escaped
+prfalse
+lineptr
+copychar
+outptr
+lineptr
+nextchar
+lineptr
+outptr
+nsok
+msgextractheaderaddressmailboxes
+line
+addrs
+result
+out
+pruint
+size
+status
+msgparseheaderaddresses
+line
+addrs
+status
+addrs
+status
+pruint
+strlen
+size
+result
+prmalloc
+size
+result
+prfree
+addrs
+out
+result
+addrs
+status
+pruint
+strlen
+memcpy
+out
+out
+status
+out
+out
+out
+prfree
+addrs
+result
+msgextractheaderaddressnames
+line
+names
+addrs
+result
+out
+pruint
+size
+status
+msgparseheaderaddresses
+line
+names
+addrs
+status
+pruint
+len
+len
+names
+addrs
+status
+len
+strlen
+len
+strlen
+len
+len
+size
+len
+len
+len
+result
+prmalloc
+size
+result
+prfree
+names
+prfree
+addrs
+out
+result
+names
+addrs
+status
+len
+strlen
+len
+strlen
+len
+memcpy
+out
+len
+out
+len
+memcpy
+out
+len
+out
+len
+status
+out
+out
+len
+len
+out
+prfree
+names
+prfree
+addrs
+result
+msgextractheaderaddressname
+line
+name
+addr
+status
+msgparseheaderaddresses
+line
+name
+addr
+prfalse
+prfalse
+prtrue
+status
+name
+name
+freeif
+addr
+name
+freeif
+name
+addr
+msgformatheaderaddresses
+names
+addrs
+count
+prbool
+wraplinesp
+result
+out
+pruint
+size
+pruint
+column
+pruint
+len
+len
+pruint
+namemaxlen
+pruint
+addrmaxlen
+count
+names
+addrs
+count
+len
+strlen
+len
+strlen
+len
+len
+len
+len
+len
+len
+namemaxlen
+prmax
+namemaxlen
+len
+addrmaxlen
+prmax
+addrmaxlen
+len
+size
+len
+len
+result
+prmalloc
+size
+aname
+prmalloc
+namemaxlen
+anaddr
+prmalloc
+addrmaxlen
+result
+aname
+anaddr
+prfreeif
+result
+prfreeif
+aname
+prfreeif
+anaddr
+out
+result
+names
+addrs
+count
+plstrncpy
+aname
+namemaxlen
+plstrncpy
+anaddr
+addrmaxlen
+len
+msgquotephraseoraddr
+aname
+strlen
+prfalse
+len
+msgquotephraseoraddr
+anaddr
+strlen
+prtrue
+wraplinesp
+column
+len
+len
+count
+out
+result
+out
+out
+out
+nscrt
+cr
+out
+nscrt
+lf
+out
+column
+out
+len
+memcpy
+out
+aname
+len
+out
+len
+out
+out
+memcpy
+out
+anaddr
+len
+out
+len
+len
+out
+count
+out
+out
+strlen
+strlen
+column
+out
+out
+prfreeif
+aname
+prfreeif
+anaddr
+result
+msgreformatheaderaddresses
+line
+names
+addrs
+result
+status
+msgparseheaderaddresses
+line
+names
+addrs
+status
+result
+msgformatheaderaddresses
+names
+addrs
+status
+prtrue
+prfree
+names
+prfree
+addrs
+result
+msgremoveduplicateaddresses
+addrs
+otheraddrs
+prbool
+removealiasestome
+addrs
+output
+out
+result
+count
+count
+count
+size
+size
+size
+names
+names
+addrs
+addrs
+aarray
+aarray
+aarray
+narray
+narray
+count
+msgparseheaderaddresses
+addrs
+names
+addrs
+count
+fail
+count
+result
+nscrt
+strdup
+fail
+otheraddrs
+count
+msgparseheaderaddresses
+otheraddrs
+names
+addrs
+count
+fail
+names
+addrs
+count
+pruint
+len
+strlen
+pruint
+len
+strlen
+len
+len
+size
+len
+len
+names
+addrs
+count
+pruint
+len
+strlen
+pruint
+len
+strlen
+len
+len
+size
+len
+len
+aarray
+prmalloc
+count
+aarray
+fail
+narray
+prmalloc
+count
+narray
+fail
+count
+aarray
+prmalloc
+count
+aarray
+fail
+aarray
+prmalloc
+count
+aarray
+fail
+narray
+prmalloc
+count
+narray
+fail
+names
+addrs
+count
+narray
+aarray
+strlen
+strlen
+addrs
+count
+aarray
+strlen
+count
+prbool
+found
+prfalse
+count
+nscrt
+strcasecmp
+aarray
+aarray
+found
+prtrue
+found
+count
+nscrt
+strcasecmp
+aarray
+aarray
+found
+prtrue
+found
+removealiasestome
+found
+msgprefs
+isemailaddressanaliasforme
+aarray
+found
+endif
+found
+narray
+count
+narray
+aarray
+count
+aarray
+size
+strlen
+narray
+count
+strlen
+aarray
+count
+count
+nsassertion
+count
+count
+count
+count
+output
+prmalloc
+size
+output
+fail
+output
+out
+output
+output
+count
+plstrcpy
+out
+aarray
+out
+strlen
+out
+out
+out
+count
+plstrcpy
+out
+narray
+out
+strlen
+out
+out
+result
+msgformatheaderaddresses
+count
+prfalse
+fail
+freeif
+aarray
+freeif
+aarray
+freeif
+aarray
+freeif
+narray
+freeif
+narray
+freeif
+names
+freeif
+names
+freeif
+addrs
+freeif
+addrs
+freeif
+output
+result
+msgmakefulladdress
+name
+addr
+nl
+name
+strlen
+name
+al
+addr
+strlen
+addr
+buf
+al
+buf
+prmalloc
+nl
+al
+buf
+nl
+plstrcpy
+buf
+name
+msgquotephraseoraddr
+buf
+nl
+prfalse
+buf
+buf
+plstrcpy
+addr
+msgquotephraseoraddr
+al
+prtrue
+nl
+buf
+buf
+prrealloc
+buf
+buf
\ No newline at end of file
@@ -0,0 +1,1589 @@
+nscomptr
+stdio
+mimecom
+modmimee
+nscore
+nsstreamconverter
+comin
+prmem
+prprf
+prlog
+plstr
+mimemoz
+nsmimetypes
+nsicomponentmanager
+nsiurl
+nsstring
+nsreadableutils
+nsunicharutils
+nsiservicemanager
+nsxpidlstring
+nsmemory
+nsipipe
+nsmimestringresources
+nsipref
+nsnetutil
+nsimsgquote
+nsiscriptsecuritymanager
+nsnetutil
+mozitxttohtmlconv
+nsimsgmailnewsurl
+nsimsgwindow
+nsstreamconverter
+nsicategorymanager
+nsiinterfacerequestor
+nsiinterfacerequestorutils
+nsiasyncinputstream
+nsiasyncoutputstream
+define
+prefmaildisplayglyph
+mail
+displayglyph
+define
+prefmaildisplaystruct
+mail
+displaystruct
+nsdefinecid
+kprefcid
+nsprefcid
+mimebridgecreatedraftstream
+nsimimeemitter
+newemitter
+nsstreamconverter
+newpluginobj
+nsiuri
+uri
+nsmimeoutputtype
+formatout
+bridgecreatestream
+nsimimeemitter
+newemitter
+nsstreamconverter
+newpluginobj
+nsiuri
+uri
+nsmimeoutputtype
+formatout
+pruint
+whattodo
+nsichannel
+achannel
+formatout
+nsmimeoutput
+nsmimemessagedraftortemplate
+formatout
+nsmimeoutput
+nsmimemessageeditortemplate
+mimebridgecreatedraftstream
+newemitter
+newpluginobj
+uri
+formatout
+mimebridgecreatedisplaystream
+newemitter
+newpluginobj
+uri
+formatout
+whattodo
+achannel
+bridgedestroystream
+newstream
+nsmimesession
+stream
+nsmimesession
+newstream
+stream
+prfreeif
+stream
+bridgesetoutputtype
+bridgestream
+nsmimeoutputtype
+atype
+nsmimesession
+session
+nsmimesession
+bridgestream
+session
+mimestreamdata
+msd
+mimestreamdata
+session
+dataobject
+msd
+msd
+formatout
+atype
+nsresult
+bridgenewnewuri
+bridgestream
+nsiuri
+auri
+print
+aoutputtype
+nsmimesession
+session
+nsmimesession
+bridgestream
+fixuppointer
+nsnull
+session
+session
+dataobject
+prbool
+overridecharset
+nsnull
+defaultcharset
+nsnull
+urlname
+nsnull
+aoutputtype
+nsmimeoutput
+nsmimemessagedraftortemplate
+aoutputtype
+nsmimeoutput
+nsmimemessageeditortemplate
+mimedraftdata
+mdd
+mimedraftdata
+session
+dataobject
+mdd
+options
+defaultcharset
+mdd
+options
+defaultcharset
+overridecharset
+mdd
+options
+overridecharset
+urlname
+mdd
+urlname
+mimestreamdata
+msd
+mimestreamdata
+session
+dataobject
+msd
+options
+defaultcharset
+msd
+options
+defaultcharset
+overridecharset
+msd
+options
+overridecharset
+urlname
+msd
+urlname
+fixuppointer
+msd
+options
+url
+defaultcharset
+overridecharset
+urlname
+nscomptr
+nsimsginurl
+inurl
+doqueryinterface
+auri
+inurl
+nsxpidlcstring
+charset
+nsresult
+rv
+inurl
+getcharsetoverride
+gettercopies
+charset
+nssucceeded
+rv
+charset
+isempty
+overridecharset
+prtrue
+defaultcharset
+tonewcstring
+charset
+inurl
+getfoldercharset
+gettercopies
+charset
+charset
+isempty
+defaultcharset
+tonewcstring
+charset
+overridecharset
+defaultcharset
+defaultcharset
+prbool
+foldercharsetoverride
+rv
+inurl
+getfoldercharsetoverride
+foldercharsetoverride
+nssucceeded
+rv
+foldercharsetoverride
+overridecharset
+prtrue
+aoutputtype
+nsmimeoutput
+nsmimemessagedraftortemplate
+aoutputtype
+nsmimeoutput
+nsmimemessageeditortemplate
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+auri
+msgurl
+nscomptr
+nsimsgwindow
+msgwindow
+msgurl
+getmsgwindow
+getteraddrefs
+msgwindow
+msgwindow
+msgwindow
+setmailcharacterset
+defaultcharset
+msgwindow
+setcharsetoverride
+overridecharset
+overridecharset
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefcid
+rv
+nssucceeded
+rv
+prefs
+prbool
+forceoverride
+rv
+prefs
+getboolpref
+mailnews
+forcecharsetoverride
+forceoverride
+nssucceeded
+rv
+forceoverride
+overridecharset
+prtrue
+nscautostring
+urlstring
+nssucceeded
+auri
+getspec
+urlstring
+urlstring
+isempty
+crtfreeif
+urlname
+urlname
+tonewcstring
+urlstring
+urlname
+nserroroutofmemory
+fixuppointer
+fixuppointer
+urlname
+nsok
+mimeheaderscallback
+closure
+mimeheaders
+headers
+mimestreamdata
+msd
+mimestreamdata
+closure
+prassert
+msd
+headers
+msd
+headers
+prassert
+msd
+headers
+msd
+headers
+mimeheaderscopy
+headers
+nsresult
+bridgesetmimestreamconverterlistener
+bridgestream
+nsimimestreamconverterlistener
+listener
+nsmimeoutputtype
+aoutputtype
+nsmimesession
+session
+nsmimesession
+bridgestream
+session
+session
+dataobject
+aoutputtype
+nsmimeoutput
+nsmimemessagedraftortemplate
+aoutputtype
+nsmimeoutput
+nsmimemessageeditortemplate
+mimedraftdata
+mdd
+mimedraftdata
+session
+dataobject
+mdd
+options
+listener
+mdd
+options
+callerneedrootheaders
+prtrue
+mdd
+options
+decomposeheadersinfofn
+mimeheaderscallback
+mdd
+options
+callerneedrootheaders
+prfalse
+mdd
+options
+decomposeheadersinfofn
+nsnull
+mimestreamdata
+msd
+mimestreamdata
+session
+dataobject
+msd
+options
+listener
+msd
+options
+callerneedrootheaders
+prtrue
+msd
+options
+decomposeheadersinfofn
+mimeheaderscallback
+msd
+options
+callerneedrootheaders
+prfalse
+msd
+options
+decomposeheadersinfofn
+nsnull
+nsok
+nsresult
+nsstreamconverter
+determineoutputformat
+url
+nsmimeoutputtype
+anewtype
+anewtype
+nsmimeoutput
+nsmimemessagequoting
+url
+url
+crtfreeif
+moutputformat
+moutputformat
+nscrt
+strdup
+text
+html
+nsok
+format
+plstrcasestr
+url
+outformat
+part
+plstrcasestr
+url
+part
+header
+plstrcasestr
+url
+header
+format
+format
+plstrcasestr
+url
+outformat
+part
+part
+plstrcasestr
+url
+part
+header
+header
+plstrcasestr
+url
+header
+format
+format
+strlen
+outformat
+format
+format
+format
+format
+ptr
+crtfreeif
+moutputformat
+moutputformat
+nscrt
+strdup
+format
+crtfreeif
+moverrideformat
+moverrideformat
+nscrt
+strdup
+raw
+ptr
+moutputformat
+ptr
+ptr
+ptr
+ptr
+ptr
+ptr
+ptr
+ptr
+ptr
+ptr
+memmove
+ptr
+ptr
+strlen
+ptr
+ptr
+strlen
+ptr
+ptr
+ptr
+anewtype
+nsmimeoutput
+nsmimemessageraw
+nsok
+part
+header
+print
+lenofheader
+strlen
+header
+ptr
+plstrcasestr
+only
+header
+lenofheader
+ptr
+plstrcasestr
+quote
+header
+lenofheader
+ptr
+plstrcasestr
+quotebody
+header
+lenofheader
+ptr
+plstrcasestr
+none
+header
+lenofheader
+ptr
+plstrcasestr
+print
+header
+lenofheader
+ptr
+plstrcasestr
+saveas
+header
+lenofheader
+ptr
+plstrcasestr
+src
+header
+lenofheader
+ptr
+plstrcasestr
+filter
+header
+lenofheader
+ptr
+crtfreeif
+moutputformat
+moutputformat
+nscrt
+strdup
+text
+html
+anewtype
+nsmimeoutput
+nsmimemessagebodydisplay
+ptr
+crtfreeif
+moutputformat
+moutputformat
+nscrt
+strdup
+text
+xml
+anewtype
+nsmimeoutput
+nsmimemessageheaderdisplay
+ptr
+crtfreeif
+moutputformat
+moutputformat
+nscrt
+strdup
+text
+html
+anewtype
+nsmimeoutput
+nsmimemessagequoting
+ptr
+crtfreeif
+moutputformat
+moutputformat
+nscrt
+strdup
+text
+html
+anewtype
+nsmimeoutput
+nsmimemessagebodyquoting
+ptr
+crtfreeif
+moutputformat
+moutputformat
+nscrt
+strdup
+text
+html
+anewtype
+nsmimeoutput
+nsmimemessageprintoutput
+ptr
+crtfreeif
+moutputformat
+moutputformat
+nscrt
+strdup
+text
+html
+anewtype
+nsmimeoutput
+nsmimemessagesaveas
+ptr
+crtfreeif
+moutputformat
+moutputformat
+nscrt
+strdup
+text
+plain
+anewtype
+nsmimeoutput
+nsmimemessagesource
+ptr
+crtfreeif
+moutputformat
+moutputformat
+nscrt
+strdup
+text
+plain
+anewtype
+nsmimeoutput
+nsmimemessagefiltersniffer
+crtfreeif
+moutputformat
+moutputformat
+nscrt
+strdup
+text
+html
+anewtype
+nsmimeoutput
+nsmimemessagebodydisplay
+part
+typefield
+plstrcasestr
+url
+type
+typefield
+nextfield
+plstrcasestr
+typefield
+strlen
+type
+nextfield
+nextfield
+mrealcontenttype
+typefield
+strlen
+type
+nextfield
+mrealcontenttype
+typefield
+strlen
+type
+mrealcontenttype
+equals
+message
+rfc
+mrealcontenttype
+message
+display
+crtfreeif
+moutputformat
+moutputformat
+nscrt
+strdup
+text
+html
+anewtype
+nsmimeoutput
+nsmimemessagebodydisplay
+mrealcontenttype
+equals
+message
+display
+mrealcontenttype
+crtfreeif
+moutputformat
+moutputformat
+nscrt
+strdup
+text
+html
+anewtype
+nsmimeoutput
+nsmimemessagebodydisplay
+crtfreeif
+moutputformat
+moutputformat
+nscrt
+strdup
+raw
+anewtype
+nsmimeoutput
+nsmimemessageraw
+nsok
+crtfreeif
+moutputformat
+moutputformat
+nscrt
+strdup
+raw
+anewtype
+nsmimeoutput
+nsmimemessageraw
+nsok
+nsresult
+nsstreamconverter
+internalcleanup
+crtfreeif
+moutputformat
+crtfreeif
+mdesiredoutputtype
+crtfreeif
+moverrideformat
+mbridgestream
+bridgedestroystream
+mbridgestream
+mbridgestream
+nsnull
+nsok
+nsstreamconverter
+nsstreamconverter
+moverrideformat
+nsnull
+mwrapperoutput
+prfalse
+mbridgestream
+mtotalread
+moutputformat
+nscrt
+strdup
+text
+html
+mdoneparsing
+prfalse
+malreadyknowoutputtype
+prfalse
+mforwardinline
+prfalse
+mdesiredoutputtype
+nsnull
+mpendingchannel
+nsnull
+mpendingcontext
+nsnull
+nsstreamconverter
+nsstreamconverter
+internalcleanup
+nsimplthreadsafeaddref
+nsstreamconverter
+nsimplthreadsaferelease
+nsstreamconverter
+nsinterfacemapbegin
+nsstreamconverter
+nsinterfacemapentryambiguous
+nsisupports
+nsistreamlistener
+nsinterfacemapentry
+nsistreamlistener
+nsinterfacemapentry
+nsirequestobserver
+nsinterfacemapentry
+nsistreamconverter
+nsinterfacemapentry
+nsimimestreamconverter
+nsinterfacemapend
+nsimethodimp
+nsstreamconverter
+init
+nsiuri
+auri
+nsistreamlistener
+aoutlistener
+nsichannel
+achannel
+nsensureargpointer
+auri
+nsresult
+rv
+nsok
+moutlistener
+aoutlistener
+crtfreeif
+mdesiredoutputtype
+nsmimeoutputtype
+newtype
+malreadyknowoutputtype
+nscautostring
+urlspec
+rv
+auri
+getspec
+urlspec
+determineoutputformat
+urlspec
+get
+newtype
+malreadyknowoutputtype
+prtrue
+newtype
+moutputtype
+moutputtype
+newtype
+newtype
+nsmimeoutput
+nsmimemessagesplitdisplay
+mwrapperoutput
+prtrue
+crtfreeif
+moutputformat
+moutputformat
+nscrt
+strdup
+text
+html
+nsmimeoutput
+nsmimemessageheaderdisplay
+crtfreeif
+moutputformat
+moutputformat
+nscrt
+strdup
+text
+xml
+nsmimeoutput
+nsmimemessagebodydisplay
+crtfreeif
+moutputformat
+moutputformat
+nscrt
+strdup
+text
+html
+nsmimeoutput
+nsmimemessagequoting
+nsmimeoutput
+nsmimemessagesaveas
+nsmimeoutput
+nsmimemessagebodyquoting
+nsmimeoutput
+nsmimemessageprintoutput
+crtfreeif
+moutputformat
+moutputformat
+nscrt
+strdup
+text
+html
+nsmimeoutput
+nsmimemessagedecrypt
+nsmimeoutput
+nsmimemessageraw
+crtfreeif
+moutputformat
+moutputformat
+nscrt
+strdup
+raw
+nsmimeoutput
+nsmimemessagesource
+crtfreeif
+moutputformat
+crtfreeif
+moverrideformat
+moutputformat
+nscrt
+strdup
+text
+plain
+moverrideformat
+nscrt
+strdup
+raw
+nsmimeoutput
+nsmimemessagedraftortemplate
+crtfreeif
+moutputformat
+moutputformat
+nscrt
+strdup
+message
+draft
+nsmimeoutput
+nsmimemessageeditortemplate
+crtfreeif
+moutputformat
+moutputformat
+nscrt
+strdup
+text
+html
+nsmimeoutput
+nsmimemessagefiltersniffer
+crtfreeif
+moutputformat
+moutputformat
+nscrt
+strdup
+text
+plain
+nsassertion
+means
+made
+mistake
+in
+my
+assumptions
+nsxpidlcstring
+contenttypetouse
+getcontenttype
+gettercopies
+contenttypetouse
+achannel
+setcontenttype
+contenttypetouse
+newtype
+nsmimeoutput
+nsmimemessagedraftortemplate
+newtype
+nsmimeoutput
+nsmimemessageeditortemplate
+nscautostring
+categoryname
+messenger
+mimeemitter
+type
+moverrideformat
+categoryname
+moverrideformat
+categoryname
+moutputformat
+nscomptr
+nsicategorymanager
+catman
+dogetservice
+nscategorymanagercontractid
+rv
+nssucceeded
+rv
+nsxpidlcstring
+contractid
+catman
+getcategoryentry
+mime
+emitter
+categoryname
+get
+gettercopies
+contractid
+contractid
+isempty
+categoryname
+contractid
+memitter
+docreateinstance
+categoryname
+get
+rv
+nsfailed
+rv
+memitter
+nserroroutofmemory
+rv
+nsnewpipe
+getteraddrefs
+minputstream
+getteraddrefs
+moutputstream
+nsstreamconvertersegmentsize
+nsstreamconverterbuffersize
+prtrue
+prtrue
+nssucceeded
+rv
+memitter
+memitter
+initialize
+auri
+achannel
+newtype
+memitter
+setpipe
+minputstream
+moutputstream
+memitter
+setoutputlistener
+aoutlistener
+pruint
+whattodo
+mozitxttohtmlconv
+kurls
+prbool
+enableemoticons
+prtrue
+prbool
+enablestructs
+prtrue
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefcid
+rv
+nssucceeded
+rv
+prefs
+rv
+prefs
+getboolpref
+prefmaildisplayglyph
+enableemoticons
+nsfailed
+rv
+enableemoticons
+whattodo
+whattodo
+mozitxttohtmlconv
+kglyphsubstitution
+rv
+prefs
+getboolpref
+prefmaildisplaystruct
+enablestructs
+nsfailed
+rv
+enablestructs
+whattodo
+whattodo
+mozitxttohtmlconv
+kstructphrase
+moutputtype
+nsmimeoutput
+nsmimemessagesource
+nsok
+mbridgestream
+bridgecreatestream
+memitter
+auri
+newtype
+whattodo
+achannel
+mbridgestream
+nserroroutofmemory
+setstreamuri
+auri
+mmimestreamconverterlistener
+bridgesetmimestreamconverterlistener
+nsmimesession
+mbridgestream
+mmimestreamconverterlistener
+moutputtype
+nsok
+nsimethodimp
+nsstreamconverter
+getcontenttype
+aoutputcontenttype
+aoutputcontenttype
+nserrornullpointer
+mrealcontenttype
+isempty
+aoutputcontenttype
+tonewcstring
+mrealcontenttype
+nscrt
+strcasecmp
+moutputformat
+raw
+aoutputcontenttype
+nsmemory
+clone
+unknowncontenttype
+strlen
+unknowncontenttype
+aoutputcontenttype
+nsmemory
+clone
+moutputformat
+strlen
+moutputformat
+nsok
+nsresult
+nsstreamconverter
+setmimeoutputtype
+nsmimeoutputtype
+atype
+malreadyknowoutputtype
+prtrue
+moutputtype
+atype
+mbridgestream
+bridgesetoutputtype
+mbridgestream
+atype
+nsok
+nsimethodimp
+nsstreamconverter
+getmimeoutputtype
+nsmimeoutputtype
+aoutformat
+nsresult
+rv
+nsok
+aoutformat
+aoutformat
+moutputtype
+rv
+nserrornullpointer
+rv
+nsresult
+nsstreamconverter
+setstreamuri
+nsiuri
+auri
+muri
+auri
+mbridgestream
+bridgenewnewuri
+nsmimesession
+mbridgestream
+auri
+moutputtype
+nsok
+nsresult
+nsstreamconverter
+setmimeheaderslistener
+nsimimestreamconverterlistener
+listener
+nsmimeoutputtype
+atype
+mmimestreamconverterlistener
+listener
+bridgesetmimestreamconverterlistener
+nsmimesession
+mbridgestream
+listener
+atype
+nsok
+nsimethodimp
+nsstreamconverter
+setforwardinline
+prbool
+forwardinline
+mforwardinline
+forwardinline
+nsok
+nsimethodimp
+nsstreamconverter
+getforwardinline
+prbool
+result
+result
+nserrornullpointer
+result
+mforwardinline
+nsok
+nsimethodimp
+nsstreamconverter
+getidentity
+nsimsgidentity
+aidentity
+aidentity
+nserrornullpointer
+aidentity
+midentity
+nsifaddref
+aidentity
+nsok
+nsimethodimp
+nsstreamconverter
+setidentity
+nsimsgidentity
+aidentity
+midentity
+aidentity
+nsok
+nsimethodimp
+nsstreamconverter
+setoriginalmsguri
+originalmsguri
+moriginalmsguri
+originalmsguri
+nsok
+nsimethodimp
+nsstreamconverter
+getoriginalmsguri
+result
+result
+nserrornullpointer
+result
+tonewcstring
+moriginalmsguri
+nsok
+nsresult
+nsstreamconverter
+ondataavailable
+nsirequest
+request
+nsisupports
+ctxt
+nsiinputstream
+aistream
+pruint
+sourceoffset
+pruint
+alength
+nsresult
+rc
+nsok
+pruint
+readlen
+alength
+pruint
+written
+mwrapperoutput
+outbuf
+output
+html
+frameset
+rows
+frame
+name
+messageheader
+src
+header
+only
+frame
+name
+messagebody
+src
+header
+none
+frameset
+html
+nscautostring
+url
+nsfailed
+muri
+getspec
+url
+nserrorfailure
+prsnprintf
+outbuf
+outbuf
+output
+url
+get
+url
+get
+memitter
+memitter
+write
+outbuf
+strlen
+outbuf
+written
+mtotalread
+written
+nserrorfailure
+buf
+prmalloc
+alength
+buf
+nserroroutofmemory
+mtotalread
+alength
+readlen
+alength
+aistream
+read
+buf
+alength
+readlen
+readptr
+endptr
+buf
+readlen
+readptr
+buf
+readptr
+endptr
+readptr
+readptr
+readptr
+endptr
+writeptr
+readptr
+readptr
+readptr
+endptr
+readptr
+readptr
+writeptr
+readptr
+writeptr
+readlen
+writeptr
+buf
+moutputtype
+nsmimeoutput
+nsmimemessagesource
+rc
+nsok
+memitter
+rc
+memitter
+write
+buf
+readlen
+written
+mbridgestream
+nsmimesession
+tsession
+nsmimesession
+mbridgestream
+rc
+tsession
+putblock
+nsmimesession
+mbridgestream
+buf
+readlen
+prfreeif
+buf
+nsfailed
+rc
+mdoneparsing
+prtrue
+rc
+nsresult
+nsstreamconverter
+onstartrequest
+nsirequest
+request
+nsisupports
+ctxt
+ifdef
+debugrhp
+printf
+nsstreamconverter
+onstartrequest
+endif
+ifdef
+debugmscott
+mconvertcontenttime
+printervalnow
+endif
+request
+nscomptr
+nsichannel
+channel
+doqueryinterface
+request
+channel
+nsxpidlcstring
+contenttype
+getcontenttype
+gettercopies
+contenttype
+channel
+setcontenttype
+contenttype
+moutlistener
+moutlistener
+onstartrequest
+request
+ctxt
+nsok
+nsresult
+nsstreamconverter
+onstoprequest
+nsirequest
+request
+nsisupports
+ctxt
+nsresult
+status
+ifdef
+debugrhp
+printf
+nsstreamconverter
+onstoprequest
+endif
+mbridgestream
+nsmimesession
+tsession
+nsmimesession
+mbridgestream
+mmimestreamconverterlistener
+mimeheaders
+workheaders
+nsnull
+moutputtype
+nsmimeoutput
+nsmimemessagedraftortemplate
+moutputtype
+nsmimeoutput
+nsmimemessageeditortemplate
+mimedraftdata
+mdd
+mimedraftdata
+tsession
+dataobject
+mdd
+workheaders
+mdd
+headers
+mimestreamdata
+msd
+mimestreamdata
+tsession
+dataobject
+msd
+workheaders
+msd
+headers
+workheaders
+nsresult
+rv
+nscomptr
+nsimimeheaders
+mimeheaders
+docreateinstance
+nsimimeheaderscontractid
+rv
+nssucceeded
+rv
+workheaders
+mimeheaders
+initialize
+workheaders
+allheaders
+workheaders
+allheadersfp
+mmimestreamconverterlistener
+onheadersready
+mimeheaders
+mmimestreamconverterlistener
+onheadersready
+nsnull
+mmimestreamconverterlistener
+nsnull
+tsession
+complete
+nsmimesession
+mbridgestream
+memitter
+memitter
+complete
+moutputstream
+moutputstream
+close
+internalcleanup
+ifdef
+debugmscott
+printf
+time
+spent
+in
+mime
+ms
+printervaltomilliseconds
+printervalnow
+mconvertcontenttime
+endif
+moutlistener
+moutlistener
+onstoprequest
+request
+ctxt
+status
+malreadyknowoutputtype
+prfalse
+close
+nsok
+nsresult
+nsstreamconverter
+close
+moutgoingchannel
+nsnull
+memitter
+nsnull
+moutlistener
+nsnull
+nsok
+nsimethodimp
+nsstreamconverter
+convert
+nsiinputstream
+afromstream
+prunichar
+afromtype
+prunichar
+atotype
+nsisupports
+actxt
+nsiinputstream
+retval
+nserrornotimplemented
+nsimethodimp
+nsstreamconverter
+asyncconvertdata
+prunichar
+afromtype
+prunichar
+atotype
+nsistreamlistener
+alistener
+nsisupports
+actxt
+nsresult
+rv
+nsok
+nscomptr
+nsimsgquote
+amsgquote
+doqueryinterface
+actxt
+rv
+nscomptr
+nsichannel
+achannel
+amsgquote
+nscomptr
+nsimimestreamconverterlistener
+quotelistener
+rv
+amsgquote
+getquotelistener
+getteraddrefs
+quotelistener
+quotelistener
+setmimeheaderslistener
+quotelistener
+nsmimeoutput
+nsmimemessagequoting
+rv
+amsgquote
+getquotechannel
+getteraddrefs
+achannel
+achannel
+doqueryinterface
+actxt
+rv
+atotype
+crtfreeif
+mdesiredoutputtype
+mdesiredoutputtype
+nscrt
+strdup
+atotype
+nsassertion
+achannel
+nssucceeded
+rv
+mailnews
+mime
+converter
+has
+to
+have
+the
+channel
+passed
+in
+nsfailed
+rv
+rv
+nscomptr
+nsiuri
+auri
+achannel
+geturi
+getteraddrefs
+auri
+init
+auri
+alistener
+achannel
+nsimethodimp
+nsstreamconverter
+firependingstartrequest
+mpendingchannel
+moutlistener
+moutlistener
+onstartrequest
+mpendingchannel
+mpendingcontext
+mpendingchannel
+nsnull
+mpendingcontext
+nsnull
+nsok
\ No newline at end of file
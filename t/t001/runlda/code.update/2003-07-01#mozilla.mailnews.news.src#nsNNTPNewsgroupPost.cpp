@@ -0,0 +1,100 @@
+msgcore
+nsinntpnewsgrouppost
+nsnntpnewsgrouppost
+nsisupportsobsolete
+plstr
+prmem
+nsimplisupports
+nsnntpnewsgrouppost
+nsinntpnewsgrouppost
+nsnntpnewsgrouppost
+nsnntpnewsgrouppost
+headerlast
+mheader
+nsnull
+mbody
+nsnull
+mmessagebuffer
+nsnull
+miscontrol
+prfalse
+mpostmessagefile
+nsnull
+nsnntpnewsgrouppost
+nsnntpnewsgrouppost
+headerlast
+mheader
+prfreeif
+mheader
+prfreeif
+mbody
+prfreeif
+mmessagebuffer
+nsifrelease
+mpostmessagefile
+nsnntpnewsgrouppost
+appendandalloc
+newsubstring
+prbool
+withcomma
+newsubstring
+plstrdup
+newsubstring
+separator
+withcomma
+oldstring
+prcalloc
+plstrlen
+oldstring
+plstrlen
+separator
+plstrlen
+newsubstring
+plstrcpy
+oldstring
+plstrcat
+separator
+plstrcat
+newsubstring
+prfree
+oldstring
+nsresult
+nsnntpnewsgrouppost
+addnewsgroup
+newsgroup
+mheader
+headernewsgroups
+appendandalloc
+mheader
+headernewsgroups
+newsgroup
+prtrue
+nsok
+nsresult
+nsnntpnewsgrouppost
+setpostmessagefile
+nsifilespec
+apostmessagefile
+nslockinstance
+apostmessagefile
+nsifrelease
+mpostmessagefile
+mpostmessagefile
+apostmessagefile
+nsifaddref
+mpostmessagefile
+nsunlockinstance
+nsok
+nsresult
+nsnntpnewsgrouppost
+getpostmessagefile
+nsifilespec
+apostmessagefile
+nslockinstance
+apostmessagefile
+apostmessagefile
+mpostmessagefile
+nsifaddref
+mpostmessagefile
+nsunlockinstance
+nsok
\ No newline at end of file
@@ -0,0 +1,7733 @@
+ifdef
+mozlogging
+define
+forceprlog
+endif
+msgcore
+mailnewstypes
+nntpcore
+nsnetutil
+nsimsghdr
+nsnntpprotocol
+nsinntparticlelist
+nsioutputstream
+nsfilestream
+nsimemory
+nsipipe
+nscomptr
+nsreadableutils
+nsmsgbasecid
+nsmsgnewscid
+nsinntpurl
+nscrt
+prtime
+prlog
+prerror
+nsescape
+prprf
+nsimsgheaderparser
+nsimsgsearchsession
+nsimsgsearchadapter
+nsimsgstatusfeedback
+nsmsgkeyset
+nsnewsutils
+nsmsgutils
+nsimsgmailsession
+nsimsgidentity
+nsimsgaccountmanager
+nsiprompt
+nsimsgstatusfeedback
+nsifolder
+nsimsgfolder
+nsimsgnewsfolder
+nsidocshell
+nsicacheentrydescriptor
+nsicachesession
+nsistreamlistener
+nsnetcid
+nsiprefbranch
+nsiprefservice
+nsimsgwindow
+nsiwindowwatcher
+nsinntpservice
+nntpcore
+nsistreamconverterservice
+nsistreamlistenertee
+time
+undef
+getport
+undef
+setport
+define
+prefnewscancelconfirm
+news
+cancel
+confirm
+define
+prefnewscancelalertonsuccess
+news
+cancel
+alertonsuccess
+define
+readnewslistcountmax
+define
+readnewslisttimeout
+define
+ratestrbuflen
+define
+updatethreshhold
+nsdummybufferstream
+nsiinputstream
+nsdeclisupports
+nsimethod
+close
+nsnotreached
+nsdummybufferstream
+close
+nserrorfailure
+nsimethod
+available
+pruint
+alength
+alength
+mlength
+nsok
+nsimethod
+read
+abuf
+pruint
+acount
+pruint
+areadcount
+pruint
+amt
+prmin
+acount
+mlength
+amt
+memcpy
+abuf
+mbuffer
+amt
+mbuffer
+amt
+mlength
+amt
+areadcount
+amt
+nsok
+nsdummybufferstream
+buffer
+pruint
+length
+mbuffer
+buffer
+mlength
+length
+nsdummybufferstream
+mbuffer
+pruint
+mlength
+nsdefinecid
+kstreamlistenerteecid
+nsstreamlistenerteecid
+cancelinfoentry
+from
+oldfrom
+cancelinfoentry
+msgunescapesearchurl
+commandspecificdata
+prlogmoduleinfo
+nntp
+define
+out
+prlogalways
+define
+nntplogread
+buf
+nntp
+nntp
+prnewlogmodule
+nntp
+prlog
+nntp
+out
+receiving
+buf
+define
+nntplogwrite
+buf
+nntp
+nntp
+prnewlogmodule
+nntp
+prlog
+nntp
+out
+sending
+buf
+define
+nntplognote
+buf
+nntp
+nntp
+prnewlogmodule
+nntp
+prlog
+nntp
+out
+buf
+statelabels
+nntpresponse
+ifdef
+blockuntilavailableconnection
+nntpblockuntilconnectionsareavailable
+nntpconnectionsareavailable
+endif
+nntpconnect
+nntpconnectwait
+nntploginresponse
+nntpsendmodereader
+nntpsendmodereaderresponse
+sendlistextensions
+sendlistextensionsresponse
+sendlistsearches
+sendlistsearchesresponse
+nntplistsearchheaders
+nntplistsearchheadersresponse
+nntpgetproperties
+nntpgetpropertiesresponse
+sendlistsubscriptions
+sendlistsubscriptionsresponse
+sendfirstnntpcommand
+sendfirstnntpcommandresponse
+setupnewsstream
+nntpbeginauthorize
+nntpauthorizeresponse
+nntppasswordresponse
+nntpreadlistbegin
+nntpreadlist
+displaynewsgroups
+nntpnewgroupsbegin
+nntpnewgroups
+nntpbeginarticle
+nntpreadarticle
+nntpxoverbegin
+nntpfigurenextchunk
+nntpxoversend
+nntpxoverresponse
+nntpxover
+newsprocessxover
+nntpreadgroup
+nntpreadgroupresponse
+nntpreadgroupbody
+nntpsendgroupforarticle
+nntpsendgroupforarticleresponse
+nntpprofileadd
+nntpprofileaddresponse
+nntpprofiledelete
+nntpprofiledeleteresponse
+nntpsendarticlenumber
+newsprocessbodies
+nntpprintarticleheaders
+nntpsendpostdata
+nntpsendpostdataresponse
+nntpcheckformessage
+newsnewsrcpost
+newsdisplaynewsrc
+newsdisplaynewsrcresponse
+newsstartcancel
+newsdocancel
+nntpxpatsend
+nntpxpatresponse
+nntpsearch
+nntpsearchresponse
+nntpsearchresults
+nntplistprettynames
+nntplistprettynamesresponse
+nntplistxactiveresponse
+nntplistxactive
+nntplistgroup
+nntplistgroupresponse
+newsdone
+newspostdone
+newserror
+nntperror
+newsfree
+newsfinished
+define
+listwanted
+define
+articlewanted
+define
+cancelwanted
+define
+groupwanted
+define
+newspost
+define
+readnewsrc
+define
+newgroups
+define
+searchwanted
+define
+prettynameswanted
+define
+profilewanted
+define
+idswanted
+define
+outputbuffersize
+define
+newgroupstimeoffset
+ifdef
+xpwin
+xpappcodename
+mozilla
+xpappcodename
+mozilla
+endif
+define
+netisspace
+msgunescapesearchurl
+commandspecificdata
+result
+prmalloc
+plstrlen
+commandspecificdata
+result
+resultptr
+result
+ch
+commandspecificdata
+ch
+ch
+scratchbuf
+scratchbuf
+commandspecificdata
+scratchbuf
+commandspecificdata
+scratchbuf
+accum
+prsscanf
+scratchbuf
+accum
+resultptr
+accum
+resultptr
+ch
+resultptr
+result
+nsimpladdref
+nsdummybufferstream
+nsimplrelease
+nsdummybufferstream
+nsimethodimp
+nsdummybufferstream
+queryinterface
+refnsiid
+aiid
+result
+result
+nserrornullpointer
+result
+nsnull
+aiid
+equals
+nsgetiid
+nsiinputstream
+result
+nsstaticcast
+nsiinputstream
+result
+addref
+nsok
+nserrornointerface
+nsimpladdrefinherited
+nsnntpprotocol
+nsmsgprotocol
+nsimplreleaseinherited
+nsnntpprotocol
+nsmsgprotocol
+nsinterfacemapbegin
+nsnntpprotocol
+nsinterfacemapentry
+nsinntpprotocol
+nsinterfacemapentry
+nsitimercallback
+nsinterfacemapentry
+nsicachelistener
+nsinterfacemapendinheriting
+nsmsgprotocol
+nsnntpprotocol
+nsnntpprotocol
+nsiuri
+aurl
+nsimsgwindow
+amsgwindow
+nsmsgprotocol
+aurl
+nntp
+nntp
+prnewlogmodule
+nntp
+mproxyserver
+nsnull
+mlinestreambuffer
+nsnull
+mresponsetext
+nsnull
+mdatabuf
+nsnull
+mpath
+nsnull
+mcancelfromhdr
+nsnull
+mcancelnewsgroups
+nsnull
+mcanceldistribution
+nsnull
+mcancelid
+nsnull
+mmessageid
+nsnull
+mkey
+nsmsgkeynone
+mcommandspecificdata
+nsnull
+msearchdata
+nsnull
+mbytesreceived
+mbytesreceivedsincelaststatusupdate
+mstarttime
+prnow
+amsgwindow
+mmsgwindow
+amsgwindow
+mrunningurl
+nsnull
+setisbusy
+prfalse
+mfromcache
+prfalse
+prlog
+nntp
+prlogalways
+creating
+prlog
+nntp
+prlogalways
+initializing
+so
+unset
+mcurrentgroup
+mcurrentgroup
+llil
+mlastactivetimestamp
+nsnntpprotocol
+nsnntpprotocol
+prlog
+nntp
+prlogalways
+destroying
+mnntpserver
+mnntpserver
+writenewsrcfile
+mnntpserver
+removeconnection
+mlinestreambuffer
+mlinestreambuffer
+mupdatetimer
+mupdatetimer
+cancel
+mupdatetimer
+nsnull
+cleanup
+nsnntpprotocol
+cleanup
+prfreeif
+mresponsetext
+prfreeif
+mdatabuf
+prfreeif
+mpath
+prfreeif
+mcancelfromhdr
+prfreeif
+mcancelnewsgroups
+prfreeif
+mcanceldistribution
+prfreeif
+mcancelid
+prfreeif
+mmessageid
+prfreeif
+mcommandspecificdata
+nsimethodimp
+nsnntpprotocol
+initialize
+nsiuri
+aurl
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+nsok
+prbool
+issecure
+prfalse
+amsgwindow
+mmsgwindow
+amsgwindow
+nsmsgprotocol
+initfromuri
+aurl
+nscautostring
+userpass
+rv
+murl
+getuserpass
+userpass
+nsensuresuccess
+rv
+rv
+nscautostring
+hostname
+rv
+murl
+getasciihost
+hostname
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsensuresuccess
+rv
+rv
+unescapeduserpass
+tonewcstring
+userpass
+unescapeduserpass
+nserroroutofmemory
+nsunescape
+unescapeduserpass
+nscomptr
+nsimsgincomingserver
+server
+rv
+accountmanager
+findserver
+unescapeduserpass
+hostname
+get
+nntp
+getteraddrefs
+server
+prfreeif
+unescapeduserpass
+nsensuresuccess
+rv
+nsmsginvalidormissingserver
+server
+nsmsginvalidormissingserver
+mnntpserver
+doqueryinterface
+server
+rv
+nsensuresuccess
+rv
+nsmsginvalidormissingserver
+mnntpserver
+nsmsginvalidormissingserver
+rv
+mnntpserver
+getmaxarticles
+mmaxarticles
+nsensuresuccess
+rv
+rv
+rv
+server
+getissecure
+issecure
+nsensuresuccess
+rv
+rv
+print
+port
+rv
+murl
+getport
+port
+nsfailed
+rv
+port
+rv
+server
+getport
+port
+nsfailed
+rv
+rv
+port
+issecure
+port
+securenewsport
+port
+newsport
+rv
+murl
+setport
+port
+nsfailed
+rv
+rv
+nsprecondition
+murl
+invalid
+url
+passed
+into
+nntp
+protocol
+mrunningurl
+doqueryinterface
+murl
+setisbusy
+prtrue
+nssucceeded
+rv
+mrunningurl
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+mailnewsurl
+setmsgwindow
+amsgwindow
+mrunningurl
+getnewsaction
+mnewsaction
+mnewsaction
+nsinntpurl
+actionfetcharticle
+mnewsaction
+nsinntpurl
+actionfetchpart
+mnewsaction
+nsinntpurl
+actionsavemessagetodisk
+prbool
+msgisinlocalcache
+prfalse
+mailnewsurl
+getmsgisinlocalcache
+msgisinlocalcache
+msgisinlocalcache
+nsok
+rv
+msocketisopen
+nscomptr
+nsiinterfacerequestor
+ir
+amsgwindow
+nscomptr
+nsidocshell
+docshell
+amsgwindow
+getrootdocshell
+getteraddrefs
+docshell
+ir
+doqueryinterface
+docshell
+prlog
+nntp
+prlogalways
+opening
+connection
+to
+on
+port
+hostname
+get
+port
+print
+port
+nsxpidlcstring
+hostname
+murl
+getport
+port
+nscomptr
+nsimsgincomingserver
+server
+doqueryinterface
+mnntpserver
+server
+server
+getrealhostname
+gettercopies
+hostname
+nscomptr
+nsiproxyinfo
+proxyinfo
+rv
+nsexamineforproxy
+nntp
+hostname
+get
+port
+getteraddrefs
+proxyinfo
+nsfailed
+rv
+proxyinfo
+nsnull
+issecure
+rv
+opennetworksocketwithinfo
+hostname
+get
+port
+ssl
+proxyinfo
+ir
+rv
+opennetworksocketwithinfo
+hostname
+get
+port
+nsnull
+proxyinfo
+ir
+nsensuresuccess
+rv
+rv
+mnextstate
+nntploginresponse
+mnextstate
+sendfirstnntpcommand
+mdatabuf
+prmalloc
+outputbuffersize
+mdatabufsize
+outputbuffersize
+mlinestreambuffer
+mlinestreambuffer
+nsmsglinestreambuffer
+outputbuffersize
+prtrue
+mtypewanted
+mresponsecode
+mpreviousresponsecode
+mresponsetext
+nsnull
+mpath
+nsnull
+mfirstarticle
+mlastarticle
+mfirstpossiblearticle
+mlastpossiblearticle
+mnumarticlesloaded
+mnumarticleswanted
+mnewsrclistindex
+mnewsrclistcount
+prfreeif
+mmessageid
+mmessageid
+nsnull
+mkey
+nsmsgkeynone
+marticlenumber
+moriginalcontentlength
+mcancelid
+nsnull
+mcancelfromhdr
+nsnull
+mcancelnewsgroups
+nsnull
+mcanceldistribution
+nsnull
+nsok
+nsimethodimp
+nsnntpprotocol
+getisbusy
+prbool
+aisbusy
+nsensureargpointer
+aisbusy
+aisbusy
+mconnectionbusy
+nsok
+nsimethodimp
+nsnntpprotocol
+setisbusy
+prbool
+aisbusy
+prlog
+nntp
+prlogalways
+setting
+busy
+to
+aisbusy
+mconnectionbusy
+aisbusy
+nsok
+nsimethodimp
+nsnntpprotocol
+getiscachedconnection
+prbool
+aiscachedconnection
+nsensureargpointer
+aiscachedconnection
+aiscachedconnection
+mfromcache
+nsok
+nsimethodimp
+nsnntpprotocol
+setiscachedconnection
+prbool
+aiscachedconnection
+mfromcache
+aiscachedconnection
+nsok
+nsimethodimp
+nsnntpprotocol
+getlastactivetimestamp
+prtime
+atimestamp
+nsensureargpointer
+atimestamp
+atimestamp
+mlastactivetimestamp
+nsok
+nsimethodimp
+nsnntpprotocol
+loadnewsurl
+nsiuri
+aurl
+nsisupports
+aconsumer
+mchannellistener
+nsnull
+mchannellistener
+doqueryinterface
+aconsumer
+nscomptr
+nsinntpurl
+newsurl
+doqueryinterface
+aurl
+newsurl
+getnewsaction
+mnewsaction
+setuppartextractorlistener
+mchannellistener
+loadurl
+aurl
+aconsumer
+nsnntpcachestreamlistener
+nsistreamlistener
+nsdeclisupports
+nsdeclnsirequestobserver
+nsdeclnsistreamlistener
+nsnntpcachestreamlistener
+nsnntpcachestreamlistener
+nsresult
+init
+nsistreamlistener
+astreamlistener
+nsichannel
+channel
+nsimsgmailnewsurl
+arunningurl
+nscomptr
+nsichannel
+mchanneltouse
+nscomptr
+nsistreamlistener
+mlistener
+nscomptr
+nsimsgmailnewsurl
+mrunningurl
+nsimpladdref
+nsnntpcachestreamlistener
+nsimplrelease
+nsnntpcachestreamlistener
+nsinterfacemapbegin
+nsnntpcachestreamlistener
+nsinterfacemapentryambiguous
+nsisupports
+nsistreamlistener
+nsinterfacemapentry
+nsirequestobserver
+nsinterfacemapentry
+nsistreamlistener
+nsinterfacemapend
+nsnntpcachestreamlistener
+nsnntpcachestreamlistener
+nsnntpcachestreamlistener
+nsnntpcachestreamlistener
+nsresult
+nsnntpcachestreamlistener
+init
+nsistreamlistener
+astreamlistener
+nsichannel
+channel
+nsimsgmailnewsurl
+arunningurl
+nsensurearg
+astreamlistener
+nsensurearg
+channel
+mchanneltouse
+channel
+mlistener
+astreamlistener
+mrunningurl
+arunningurl
+nsok
+nsimethodimp
+nsnntpcachestreamlistener
+onstartrequest
+nsirequest
+request
+nsisupports
+actxt
+nscomptr
+nsiloadgroup
+loadgroup
+nscomptr
+nsirequest
+ourrequest
+doqueryinterface
+mchanneltouse
+mchanneltouse
+getloadgroup
+getteraddrefs
+loadgroup
+loadgroup
+loadgroup
+addrequest
+ourrequest
+nsnull
+mlistener
+onstartrequest
+ourrequest
+actxt
+nsimethodimp
+nsnntpcachestreamlistener
+onstoprequest
+nsirequest
+request
+nsisupports
+actxt
+nsresult
+astatus
+nscomptr
+nsirequest
+ourrequest
+doqueryinterface
+mchanneltouse
+nsresult
+rv
+mlistener
+onstoprequest
+ourrequest
+actxt
+astatus
+nscomptr
+nsiloadgroup
+loadgroup
+mchanneltouse
+getloadgroup
+getteraddrefs
+loadgroup
+loadgroup
+loadgroup
+removerequest
+ourrequest
+nsnull
+astatus
+mrunningurl
+mrunningurl
+setmemcacheentry
+nsnull
+mlistener
+nsnull
+nscomptr
+nsinntpprotocol
+nntpprotocol
+doqueryinterface
+mchanneltouse
+nntpprotocol
+rv
+nntpprotocol
+setisbusy
+prfalse
+nsensuresuccess
+rv
+rv
+mchanneltouse
+nsnull
+rv
+nsimethodimp
+nsnntpcachestreamlistener
+ondataavailable
+nsirequest
+request
+nsisupports
+actxt
+nsiinputstream
+ainstream
+pruint
+asourceoffset
+pruint
+acount
+nscomptr
+nsirequest
+ourrequest
+doqueryinterface
+mchanneltouse
+mlistener
+ondataavailable
+ourrequest
+actxt
+ainstream
+asourceoffset
+acount
+nsresult
+nsnntpprotocol
+setuppartextractorlistener
+nsistreamlistener
+aconsumer
+prbool
+convertdata
+nsresult
+rv
+nsok
+mnewsaction
+nsinntpurl
+actionfetcharticle
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+mrunningurl
+rv
+nsensuresuccess
+rv
+rv
+nscautostring
+querystr
+rv
+msgurl
+getquery
+querystr
+nsensuresuccess
+rv
+rv
+convertdata
+querystr
+find
+header
+filter
+knotfound
+convertdata
+mnewsaction
+nsinntpurl
+actionfetchpart
+convertdata
+nscomptr
+nsistreamconverterservice
+converter
+dogetservice
+streamconverters
+converter
+aconsumer
+nscomptr
+nsistreamlistener
+newconsumer
+nscomptr
+nsichannel
+channel
+queryinterface
+nsgetiid
+nsichannel
+getteraddrefs
+channel
+converter
+asyncconvertdata
+nsliteralstring
+message
+rfc
+get
+nsliteralstring
+get
+aconsumer
+channel
+getteraddrefs
+newconsumer
+newconsumer
+mchannellistener
+newconsumer
+rv
+nsresult
+nsnntpprotocol
+readfrommemcache
+nsicacheentrydescriptor
+entry
+nsensurearg
+entry
+nscomptr
+nsiinputstream
+cachestream
+nsresult
+rv
+entry
+openinputstream
+getteraddrefs
+cachestream
+nssucceeded
+rv
+nscomptr
+nsiinputstreampump
+pump
+rv
+nsnewinputstreampump
+getteraddrefs
+pump
+cachestream
+nsfailed
+rv
+rv
+nsxpidlcstring
+group
+nsxpidlcstring
+commandspecificdata
+prfreeif
+mmessageid
+rv
+parseurl
+murl
+gettercopies
+group
+mmessageid
+gettercopies
+commandspecificdata
+nsnntpcachestreamlistener
+cachelistener
+nsnntpcachestreamlistener
+nsaddref
+cachelistener
+setloadgroup
+mloadgroup
+mtypewanted
+articlewanted
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+cachelistener
+init
+mchannellistener
+nsstaticcast
+nsichannel
+mailnewsurl
+mcontenttype
+rv
+pump
+asyncread
+cachelistener
+mchannelcontext
+nsrelease
+cachelistener
+markcurrentmsgread
+nssucceeded
+rv
+mchannellistener
+nsnull
+rv
+rv
+nsresult
+nsnntpprotocol
+readfromnewsconnection
+nsmsgprotocol
+asyncopen
+mchannellistener
+mchannelcontext
+prbool
+nsnntpprotocol
+readfromlocalcache
+prbool
+msgisinlocalcache
+prfalse
+nsresult
+rv
+nsok
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+getmsgisinlocalcache
+msgisinlocalcache
+msgisinlocalcache
+nsxpidlcstring
+group
+nsxpidlcstring
+commandspecificdata
+prfreeif
+mmessageid
+rv
+parseurl
+murl
+gettercopies
+group
+mmessageid
+gettercopies
+commandspecificdata
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+mnewsfolder
+folder
+nssucceeded
+rv
+nscomptr
+nsiinputstream
+filestream
+pruint
+offset
+size
+rv
+folder
+getofflinefilestream
+mkey
+offset
+size
+getteraddrefs
+filestream
+filestream
+nssucceeded
+rv
+mtypewanted
+articlewanted
+nsnntpcachestreamlistener
+cachelistener
+nsnntpcachestreamlistener
+nsaddref
+cachelistener
+cachelistener
+init
+mchannellistener
+nsstaticcast
+nsichannel
+mailnewsurl
+nscomptr
+nsiinputstreampump
+pump
+rv
+nsnewinputstreampump
+getteraddrefs
+pump
+filestream
+offset
+size
+nssucceeded
+rv
+rv
+pump
+asyncread
+cachelistener
+mchannelcontext
+nsrelease
+cachelistener
+markcurrentmsgread
+nssucceeded
+rv
+mcontenttype
+mchannellistener
+nsnull
+prtrue
+prfalse
+nsimethodimp
+nsnntpprotocol
+oncacheentryavailable
+nsicacheentrydescriptor
+entry
+nscacheaccessmode
+access
+nsresult
+status
+nsresult
+rv
+nsok
+nssucceeded
+status
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+rv
+mailnewsurl
+setmemcacheentry
+entry
+access
+nsicache
+accesswrite
+access
+nsicache
+accessread
+nscomptr
+nsistreamlistener
+newlistener
+nscomptr
+nsistreamlistenertee
+tee
+docreateinstance
+kstreamlistenerteecid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsioutputstream
+out
+rv
+entry
+openoutputstream
+getteraddrefs
+out
+nsensuresuccess
+rv
+rv
+rv
+tee
+init
+mchannellistener
+out
+mchannellistener
+doqueryinterface
+tee
+nsensuresuccess
+rv
+rv
+rv
+readfrommemcache
+entry
+access
+nsicache
+accesswrite
+entry
+markvalid
+nssucceeded
+rv
+nsok
+readfromnewsconnection
+nsresult
+nsnntpprotocol
+opencacheentry
+nsresult
+rv
+nsok
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+rv
+nscomptr
+nsinntpservice
+nntpservice
+dogetservice
+nsnntpservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsicachesession
+cachesession
+rv
+nntpservice
+getcachesession
+getteraddrefs
+cachesession
+nsensuresuccess
+rv
+rv
+nscautostring
+urlspec
+mailnewsurl
+getasciispec
+urlspec
+anchor
+strrchr
+urlspec
+get
+anchor
+anchor
+cachesession
+asyncopencacheentry
+urlspec
+get
+nsicache
+accessreadwrite
+nsimethodimp
+nsnntpprotocol
+asyncopen
+nsistreamlistener
+listener
+nsisupports
+ctxt
+nsresult
+rv
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+rv
+nsensuresuccess
+rv
+rv
+print
+port
+rv
+mailnewsurl
+getport
+port
+nsfailed
+rv
+rv
+rv
+nscheckportsafety
+port
+news
+nsfailed
+rv
+rv
+mchannelcontext
+ctxt
+mchannellistener
+listener
+mrunningurl
+getnewsaction
+mnewsaction
+mailnewsurl
+mnewsaction
+nsinntpurl
+actionfetcharticle
+mnewsaction
+nsinntpurl
+actionfetchpart
+mnewsaction
+nsinntpurl
+actionsavemessagetodisk
+setuppartextractorlistener
+mchannellistener
+readfromlocalcache
+nsok
+rv
+opencacheentry
+nssucceeded
+rv
+nsok
+nscomptr
+nsirequest
+parentrequest
+nsmsgprotocol
+asyncopen
+listener
+ctxt
+nsresult
+nsnntpprotocol
+loadurl
+nsiuri
+aurl
+nsisupports
+aconsumer
+nsensureargpointer
+aurl
+nsxpidlcstring
+group
+nsxpidlcstring
+commandspecificdata
+prbool
+cancel
+prfalse
+mcontenttype
+nsresult
+rv
+nsok
+mrunningurl
+doqueryinterface
+aurl
+rv
+nsfailed
+rv
+rv
+mrunningurl
+getnewsaction
+mnewsaction
+setisbusy
+prtrue
+prfreeif
+mmessageid
+mmessageid
+nsnull
+rv
+parseurl
+aurl
+gettercopies
+group
+mmessageid
+gettercopies
+commandspecificdata
+nsassertion
+nssucceeded
+rv
+failed
+to
+parse
+news
+url
+prlog
+nntp
+prlogalways
+mmessageid
+mmessageid
+mmessageid
+prlog
+nntp
+prlogalways
+group
+group
+get
+prlog
+nntp
+prlogalways
+commandspecificdata
+commandspecificdata
+get
+commandspecificdata
+get
+prlog
+nntp
+prlogalways
+mkey
+mkey
+mmessageid
+plstrcmp
+commandspecificdata
+get
+cancel
+cancel
+prtrue
+nsmsgsacopy
+mpath
+mmessageid
+nscomptr
+nsinntpnewsgrouppost
+message
+rv
+mrunningurl
+getmessagetopost
+getteraddrefs
+message
+nssucceeded
+rv
+message
+mtypewanted
+newspost
+nsmsgsacopy
+mpath
+mmessageid
+mkey
+nsmsgkeynone
+cancel
+mtypewanted
+cancelwanted
+mtypewanted
+articlewanted
+commandspecificdata
+isempty
+plstrstr
+commandspecificdata
+get
+newgroups
+mtypewanted
+newgroups
+plstrstr
+commandspecificdata
+get
+list
+pretty
+mtypewanted
+prettynameswanted
+mcommandspecificdata
+tonewcstring
+commandspecificdata
+plstrstr
+commandspecificdata
+get
+profile
+mtypewanted
+profilewanted
+mcommandspecificdata
+tonewcstring
+commandspecificdata
+plstrstr
+commandspecificdata
+get
+list
+ids
+mtypewanted
+idswanted
+mcommandspecificdata
+tonewcstring
+commandspecificdata
+rv
+mnntpserver
+findgroup
+group
+get
+getteraddrefs
+mnewsfolder
+mnewsfolder
+fail
+mtypewanted
+searchwanted
+mcommandspecificdata
+tonewcstring
+commandspecificdata
+nsunescape
+mcommandspecificdata
+msearchdata
+mcommandspecificdata
+rv
+mnntpserver
+findgroup
+group
+get
+getteraddrefs
+mnewsfolder
+mnewsfolder
+fail
+group
+isempty
+plstrchr
+group
+get
+mtypewanted
+listwanted
+mnntpserver
+prbool
+containsgroup
+prtrue
+rv
+mnntpserver
+containsnewsgroup
+group
+get
+containsgroup
+nsfailed
+rv
+fail
+containsgroup
+nscomptr
+nsiprompt
+dialog
+mmsgwindow
+mmsgwindow
+getpromptdialog
+getteraddrefs
+dialog
+dialog
+nscomptr
+nsiwindowwatcher
+wwatch
+dogetservice
+nswindowwatchercontractid
+wwatch
+getnewprompter
+nsnull
+getteraddrefs
+dialog
+nsxpidlstring
+statusstring
+confirmtext
+nscomptr
+nsistringbundle
+bundle
+nscomptr
+nsistringbundleservice
+bundleservice
+dogetservice
+nsstringbundlecontractid
+nsxpidlstring
+unescapedname
+rv
+nsmsgdecodeunescapeurlpath
+group
+get
+gettercopies
+unescapedname
+nsensuresuccess
+rv
+rv
+bundleservice
+createbundle
+newsmsgsurl
+getteraddrefs
+bundle
+prunichar
+formatstrings
+unescapedname
+get
+rv
+bundle
+formatstringfromname
+nsliteralstring
+autosubscribetext
+get
+formatstrings
+gettercopies
+confirmtext
+nsensuresuccess
+rv
+rv
+prbool
+confirmresult
+prfalse
+rv
+dialog
+confirm
+nsnull
+confirmtext
+confirmresult
+nsensuresuccess
+rv
+rv
+confirmresult
+rv
+mnntpserver
+subscribetonewsgroup
+group
+get
+containsgroup
+prtrue
+mrunningurl
+finishmemcacheentry
+prfalse
+closeconnection
+containsgroup
+rv
+mnntpserver
+findgroup
+group
+get
+getteraddrefs
+mnewsfolder
+mnewsfolder
+fail
+mtypewanted
+groupwanted
+mtypewanted
+readnewsrc
+mfromcache
+nsmsgprotocol
+onstartrequest
+nsnull
+aurl
+ifdef
+unreadycode
+ifndef
+noarticlecacheing
+mtypewanted
+articlewanted
+endif
+ce
+formatout
+clearcachebit
+ce
+formatout
+endif
+fail
+nsfailed
+rv
+alerterror
+rv
+nsnull
+rv
+msocketisopen
+mnextstateafterresponse
+mnextstate
+mnextstate
+nntpresponse
+rv
+nsmsgprotocol
+loadurl
+aurl
+aconsumer
+rv
+nsnntpprotocol
+finishmemcacheentry
+prbool
+valid
+nscomptr
+nsicacheentrydescriptor
+memcacheentry
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+mailnewsurl
+getmemcacheentry
+getteraddrefs
+memcacheentry
+memcacheentry
+valid
+memcacheentry
+markvalid
+memcacheentry
+doom
+nsimethodimp
+nsnntpprotocol
+onstoprequest
+nsirequest
+request
+nsisupports
+acontext
+nsresult
+astatus
+finishmemcacheentry
+nssucceeded
+astatus
+nsmsgprotocol
+onstoprequest
+request
+acontext
+astatus
+mchannellistener
+mchannellistener
+nsnull
+closesocket
+nsimethodimp
+nsnntpprotocol
+cancel
+nsresult
+status
+mnextstate
+nntperror
+nsmsgprotocol
+cancel
+nsbindingaborted
+nsresult
+nsnntpprotocol
+parseurl
+nsiuri
+aurl
+agroup
+amessageid
+acommandspecificdata
+nsensureargpointer
+aurl
+nsensureargpointer
+agroup
+nsensureargpointer
+amessageid
+nsensureargpointer
+acommandspecificdata
+print
+status
+group
+messageid
+commandspecificdata
+prlog
+nntp
+prlogalways
+parseurl
+nsresult
+rv
+nscomptr
+nsimsgfolder
+folder
+nscomptr
+nsinntpservice
+nntpservice
+dogetservice
+nsnntpservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgmessageurl
+msgurl
+doqueryinterface
+mrunningurl
+rv
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+spec
+rv
+msgurl
+getoriginalspec
+gettercopies
+spec
+nsensuresuccess
+rv
+rv
+spec
+get
+spec
+get
+prlog
+nntp
+prlogalways
+original
+message
+spec
+spec
+get
+rv
+nntpservice
+decomposenewsuri
+spec
+get
+getteraddrefs
+folder
+mkey
+nsensuresuccess
+rv
+rv
+mnewsfolder
+doqueryinterface
+folder
+rv
+nsensuresuccess
+rv
+rv
+mnewsaction
+nsinntpurl
+actioncancelarticle
+nsok
+mnewsfolder
+nsnull
+mcurrentgroup
+nscautostring
+fullpath
+rv
+aurl
+getpath
+fullpath
+nsensuresuccess
+rv
+rv
+prlog
+nntp
+prlogalways
+fullpath
+fullpath
+get
+fullpath
+first
+group
+nscrt
+strdup
+fullpath
+get
+group
+nscrt
+strdup
+fullpath
+get
+mnewsaction
+nsinntpurl
+actionsearch
+nsunescape
+group
+strchr
+group
+strstr
+group
+messageid
+nsunescape
+group
+group
+group
+nscrt
+free
+group
+group
+messageid
+group
+start
+messageid
+start
+plstrchr
+messageid
+start
+group
+start
+commandspecificdata
+nscrt
+strdup
+commandspecificdata
+status
+mkoutofmemory
+fail
+messageid
+messageid
+prfree
+messageid
+messageid
+group
+group
+prfree
+group
+group
+fail
+nsassertion
+messageid
+messageid
+group
+something
+status
+agroup
+group
+amessageid
+messageid
+acommandspecificdata
+commandspecificdata
+prfreeif
+group
+prfreeif
+messageid
+prfreeif
+commandspecificdata
+mnewsaction
+nsinntpurl
+actioncancelarticle
+status
+nserrorfailure
+nsok
+nscautostring
+serveruri
+amessageid
+rv
+aurl
+getprepath
+serveruri
+nsensuresuccess
+rv
+rv
+agroup
+plstrchr
+agroup
+rv
+aurl
+getprepath
+serveruri
+nsensuresuccess
+rv
+rv
+serveruri
+isempty
+rv
+nntpservice
+decomposenewsuri
+serveruri
+get
+getteraddrefs
+folder
+mkey
+nsensuresuccess
+rv
+rv
+mnewsfolder
+doqueryinterface
+folder
+rv
+nsensuresuccess
+rv
+rv
+rv
+mnewsfolder
+getnntpserver
+getteraddrefs
+mnntpserver
+nsensuresuccess
+rv
+rv
+mcurrentgroup
+status
+nserrorfailure
+nsok
+print
+nsnntpprotocol
+senddata
+nsiuri
+aurl
+databuffer
+prbool
+asuppresslogging
+asuppresslogging
+nntplogwrite
+databuffer
+prlog
+nntp
+out
+logging
+suppressed
+command
+it
+probably
+contained
+authentication
+information
+nsmsgprotocol
+senddata
+aurl
+databuffer
+print
+nsnntpprotocol
+newsresponse
+nsiinputstream
+inputstream
+pruint
+length
+pruint
+status
+nsresult
+rv
+nsprecondition
+nsnull
+inputstream
+invalid
+input
+stream
+prbool
+pauseformoredata
+prfalse
+line
+mlinestreambuffer
+readnextline
+inputstream
+status
+pauseformoredata
+nntplogread
+line
+pauseformoredata
+setflag
+nntppauseforread
+line
+status
+clearflag
+nntppauseforread
+status
+ifdef
+unreadycode
+ce
+bytesreceived
+status
+fegraphprogress
+ce
+windowid
+ce
+urls
+ce
+bytesreceived
+status
+ce
+urls
+contentlength
+mbytesreceived
+status
+mbytesreceivedsincelaststatusupdate
+status
+endif
+nsmsgsacopy
+mresponsetext
+line
+mpreviousresponsecode
+mresponsecode
+prsscanf
+line
+mresponsecode
+mresponsecode
+mknntpresponseauthinfodenied
+alerterror
+mknntpauthfailed
+mresponsetext
+nsassertion
+mnewsfolder
+no
+newsfolder
+mnewsfolder
+rv
+mnewsfolder
+forgetgroupusername
+rv
+mnewsfolder
+forgetgrouppassword
+mknntpresponseauthinforequire
+mresponsecode
+mknntpresponseauthinfosimplerequire
+mresponsecode
+mnextstate
+nntpbeginauthorize
+mknntpresponsepermissiondenied
+mresponsecode
+prfreeif
+line
+mnextstate
+mnextstateafterresponse
+prfreeif
+line
+print
+nsnntpprotocol
+loginresponse
+prbool
+postingallowed
+mresponsecode
+mknntpresponsepostingallowed
+mknntpresponsetype
+mresponsecode
+mknntpresponsetypeok
+alerterror
+mknntperrormessage
+mresponsetext
+mnextstate
+nntperror
+ifdef
+unreadycode
+cd
+controlcon
+prevcache
+prfalse
+endif
+mkbadnntpconnection
+mnntpserver
+setpostingallowed
+postingallowed
+mnextstate
+nntpsendmodereader
+print
+nsnntpprotocol
+sendmodereader
+nsresult
+rv
+nsok
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+rv
+nsensuresuccess
+rv
+rv
+rv
+senddata
+mailnewsurl
+nntpcmdmodereader
+mnextstate
+nntpresponse
+mnextstateafterresponse
+nntpsendmodereaderresponse
+setflag
+nntppauseforread
+nsensuresuccess
+rv
+rv
+rv
+print
+nsnntpprotocol
+sendmodereaderresponse
+setflag
+nntpreaderperformed
+prbool
+pushauth
+prfalse
+nsresult
+rv
+nsok
+nsassertion
+mnntpserver
+no
+server
+see
+bug
+mnntpserver
+rv
+mnntpserver
+getpushauth
+pushauth
+nssucceeded
+rv
+pushauth
+mnextstate
+nntpbeginauthorize
+ifdef
+havenntpextensions
+mnextstate
+sendlistextensions
+mnextstate
+sendfirstnntpcommand
+endif
+print
+nsnntpprotocol
+sendlistextensions
+print
+status
+nscomptr
+nsiuri
+url
+doqueryinterface
+mrunningurl
+url
+status
+senddata
+url
+nntpcmdlistextensions
+mnextstate
+nntpresponse
+mnextstateafterresponse
+sendlistextensionsresponse
+clearflag
+nntppauseforread
+status
+print
+nsnntpprotocol
+sendlistextensionsresponse
+nsiinputstream
+inputstream
+pruint
+length
+pruint
+status
+mknntpresponsetype
+mresponsecode
+mknntpresponsetypeok
+prbool
+pauseformoredata
+prfalse
+line
+mlinestreambuffer
+readnextline
+inputstream
+status
+pauseformoredata
+pauseformoredata
+setflag
+nntppauseforread
+line
+status
+line
+mnntpserver
+addextension
+line
+mnntpserver
+setsupportsextensions
+prtrue
+mnextstate
+sendlistsearches
+clearflag
+nntppauseforread
+mnntpserver
+setsupportsextensions
+prfalse
+mnextstate
+sendfirstnntpcommand
+status
+print
+nsnntpprotocol
+sendlistsearches
+nsresult
+rv
+prbool
+searchable
+prfalse
+print
+status
+rv
+mnntpserver
+queryextension
+search
+searchable
+nssucceeded
+rv
+searchable
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+status
+senddata
+mailnewsurl
+nntpcmdlistsearches
+mnextstate
+nntpresponse
+mnextstateafterresponse
+sendlistsearchesresponse
+setflag
+nntppauseforread
+mnextstate
+nntpgetproperties
+clearflag
+nntppauseforread
+status
+print
+nsnntpprotocol
+sendlistsearchesresponse
+nsiinputstream
+inputstream
+pruint
+length
+pruint
+status
+nsprecondition
+inputstream
+invalid
+input
+stream
+prbool
+pauseformoredata
+prfalse
+line
+mlinestreambuffer
+readnextline
+inputstream
+status
+pauseformoredata
+nntplogread
+line
+pauseformoredata
+setflag
+nntppauseforread
+line
+status
+line
+mnntpserver
+addsearchablegroup
+line
+mnextstate
+nntplistsearchheaders
+clearflag
+nntppauseforread
+prfreeif
+line
+status
+print
+nsnntpprotocol
+sendlistsearchheaders
+print
+status
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+status
+senddata
+mailnewsurl
+nntpcmdlistsearchfields
+mnextstate
+nntpresponse
+mnextstateafterresponse
+nntplistsearchheadersresponse
+setflag
+nntppauseforread
+status
+print
+nsnntpprotocol
+sendlistsearchheadersresponse
+nsiinputstream
+inputstream
+pruint
+length
+pruint
+status
+prbool
+pauseformoredata
+prfalse
+line
+mlinestreambuffer
+readnextline
+inputstream
+status
+pauseformoredata
+pauseformoredata
+setflag
+nntppauseforread
+line
+status
+line
+mnntpserver
+addsearchableheader
+line
+mnextstate
+nntpgetproperties
+clearflag
+nntppauseforread
+prfreeif
+line
+status
+print
+nsnntpprotocol
+getproperties
+nsresult
+rv
+prbool
+setget
+prfalse
+print
+status
+rv
+mnntpserver
+queryextension
+setget
+setget
+nssucceeded
+rv
+setget
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+status
+senddata
+mailnewsurl
+nntpcmdgetproperties
+mnextstate
+nntpresponse
+mnextstateafterresponse
+nntpgetpropertiesresponse
+setflag
+nntppauseforread
+mnextstate
+sendlistsubscriptions
+clearflag
+nntppauseforread
+status
+print
+nsnntpprotocol
+getpropertiesresponse
+nsiinputstream
+inputstream
+pruint
+length
+pruint
+status
+prbool
+pauseformoredata
+prfalse
+line
+mlinestreambuffer
+readnextline
+inputstream
+status
+pauseformoredata
+pauseformoredata
+setflag
+nntppauseforread
+line
+status
+line
+propertyname
+nscrt
+strdup
+line
+propertyname
+space
+plstrchr
+propertyname
+space
+propertyvalue
+space
+space
+mnntpserver
+addpropertyforget
+propertyname
+propertyvalue
+prfree
+propertyname
+mnextstate
+sendlistsubscriptions
+clearflag
+nntppauseforread
+prfreeif
+line
+status
+print
+nsnntpprotocol
+sendlistsubscriptions
+print
+status
+nsresult
+rv
+prbool
+searchable
+prfalse
+rv
+mnntpserver
+queryextension
+listsubscr
+listsubscr
+nssucceeded
+rv
+listsubscr
+endif
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+status
+senddata
+mailnewsurl
+nntpcmdlistsubscriptions
+mnextstate
+nntpresponse
+mnextstateafterresponse
+sendlistsubscriptionsresponse
+setflag
+nntppauseforread
+mnextstate
+sendfirstnntpcommand
+clearflag
+nntppauseforread
+status
+print
+nsnntpprotocol
+sendlistsubscriptionsresponse
+nsiinputstream
+inputstream
+pruint
+length
+pruint
+status
+prbool
+pauseformoredata
+prfalse
+line
+mlinestreambuffer
+readnextline
+inputstream
+status
+pauseformoredata
+pauseformoredata
+setflag
+nntppauseforread
+line
+status
+line
+nsassertion
+fix
+me
+url
+prsmprintf
+newsscheme
+mhostname
+line
+url
+msgaddsubscribednewsgroup
+cd
+pane
+url
+endif
+mnextstate
+sendfirstnntpcommand
+clearflag
+nntppauseforread
+prfreeif
+line
+status
+print
+nsnntpprotocol
+sendfirstnntpcommand
+nsiuri
+url
+command
+print
+status
+mtypewanted
+articlewanted
+mkey
+nsmsgkeynone
+nsresult
+rv
+nsxpidlcstring
+newsgroupname
+mnewsfolder
+rv
+mnewsfolder
+getasciiname
+gettercopies
+newsgroupname
+nsensuresuccess
+rv
+rv
+prlog
+nntp
+prlogalways
+current
+group
+desired
+group
+mcurrentgroup
+get
+newsgroupname
+get
+plstrcmp
+mcurrentgroup
+get
+newsgroupname
+get
+mnextstate
+nntpsendarticlenumber
+mnextstate
+nntpsendgroupforarticle
+clearflag
+nntppauseforread
+mtypewanted
+newspost
+nsmsgsacopy
+command
+post
+mtypewanted
+readnewsrc
+ifdef
+havenewsurl
+ce
+urls
+method
+urlpostmethod
+plstrchr
+ce
+urls
+address
+mnextstate
+newsnewsrcpost
+endif
+mnextstate
+newsdisplaynewsrc
+mtypewanted
+newgroups
+pruint
+lastupdate
+nsresult
+rv
+mnntpserver
+nntplognote
+mnntpserver
+is
+panic
+rv
+mnntpserver
+getlastupdatedtime
+lastupdate
+smallbuf
+prexplodedtime
+expandedtime
+lastupdate
+alerterror
+mknntpnewsgroupscanerror
+nsnull
+mnextstate
+newserror
+mkinterrupted
+lastupdate
+newgroupstimeoffset
+print
+sectousec
+timeinsec
+timeinusec
+llil
+timeinsec
+lastupdate
+llil
+sectousec
+prusecpersec
+llmul
+timeinusec
+timeinsec
+sectousec
+prexplodetime
+timeinusec
+prlocaltimeparameters
+expandedtime
+prformattimeusenglish
+smallbuf
+smallbuf
+newgroups
+expandedtime
+nsmsgsacopy
+command
+smallbuf
+mtypewanted
+listwanted
+nsresult
+rv
+clearflag
+nntpusefancynewsgroup
+pruint
+lastupdate
+nsassertion
+mnntpserver
+no
+mnntpserver
+mnntpserver
+nntplognote
+mnntpserver
+is
+panic
+rv
+mnntpserver
+getlastupdatedtime
+lastupdate
+nssucceeded
+rv
+lastupdate
+mnextstate
+displaynewsgroups
+ifdef
+unreadycode
+ifdef
+bug
+feconfirm
+ce
+windowid
+xpgetstring
+xpconfirmsavenewsgroups
+mnextstate
+newserror
+mkinterrupted
+endif
+endif
+prbool
+xactive
+prfalse
+rv
+mnntpserver
+queryextension
+xactive
+xactive
+nssucceeded
+rv
+xactive
+nsmsgsacopy
+command
+list
+xactive
+setflag
+nntpusefancynewsgroup
+nsmsgsacopy
+command
+list
+mtypewanted
+groupwanted
+nsresult
+rv
+nserrornullpointer
+nsassertion
+mnewsfolder
+mnewsfolder
+is
+panic
+mnewsfolder
+nsxpidlcstring
+groupname
+rv
+mnewsfolder
+getasciiname
+gettercopies
+groupname
+nsassertion
+nssucceeded
+rv
+failed
+to
+get
+newsgroup
+name
+nsfailed
+rv
+mfirstarticle
+mlastarticle
+nsmsgsacopy
+command
+group
+nsmsgsacat
+command
+groupname
+mtypewanted
+searchwanted
+nsresult
+rv
+prbool
+searchable
+prfalse
+mnntpserver
+nntplognote
+mnntpserver
+is
+panic
+rv
+mnntpserver
+queryextension
+search
+searchable
+nssucceeded
+rv
+searchable
+slash
+plstrchr
+mcommandspecificdata
+slash
+allocatedcommand
+msgunescapesearchurl
+slash
+allocatedcommand
+nsmsgsacopy
+command
+allocatedcommand
+prfree
+allocatedcommand
+mnextstate
+nntpresponse
+mnextstateafterresponse
+nntpsearchresponse
+prlog
+nntp
+prlogalways
+doing
+group
+xpat
+nsxpidlcstring
+groupname
+mnewsfolder
+nntplognote
+mnewsfolder
+is
+panic
+rv
+mnewsfolder
+getasciiname
+gettercopies
+groupname
+nsfailed
+rv
+nsmsgsacopy
+command
+group
+nsmsgsacat
+command
+groupname
+mcurrentgroup
+mnextstate
+nntpresponse
+mnextstateafterresponse
+nntpxpatsend
+mtypewanted
+prettynameswanted
+nsresult
+rv
+prbool
+listpretty
+prfalse
+rv
+mnntpserver
+queryextension
+listpretty
+listpretty
+nssucceeded
+rv
+listpretty
+mnextstate
+nntplistprettynames
+nsassertion
+prfalse
+unexpected
+mnextstate
+nntperror
+mtypewanted
+profilewanted
+slash
+plstrchr
+mcommandspecificdata
+slash
+allocatedcommand
+msgunescapesearchurl
+slash
+allocatedcommand
+nsmsgsacopy
+command
+allocatedcommand
+prfree
+allocatedcommand
+mnextstate
+nntpresponse
+ifdef
+unreadycode
+plstrstr
+ce
+urls
+address
+profile
+new
+mnextstateafterresponse
+nntpprofileaddresponse
+endif
+mnextstateafterresponse
+nntpprofiledeleteresponse
+mtypewanted
+idswanted
+mnextstate
+nntplistgroup
+nsassertion
+mpath
+no
+mpath
+see
+bugs
+mpath
+mtypewanted
+cancelwanted
+nsmsgsacopy
+command
+head
+nsassertion
+mtypewanted
+articlewanted
+cancel
+article
+nsmsgsacopy
+command
+article
+mpath
+nsmsgsacat
+command
+nsmsgsacat
+command
+mpath
+plstrchr
+command
+nsmsgsacat
+command
+nsmsgsacat
+command
+crlf
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+status
+senddata
+mailnewsurl
+command
+prfree
+command
+mnextstate
+nntpresponse
+mtypewanted
+searchwanted
+mtypewanted
+profilewanted
+mnextstateafterresponse
+sendfirstnntpcommandresponse
+setflag
+nntppauseforread
+status
+print
+nsnntpprotocol
+sendfirstnntpcommandresponse
+print
+status
+print
+majoropcode
+mknntpresponsetype
+mresponsecode
+majoropcode
+mknntpresponsetypecont
+mtypewanted
+newspost
+majoropcode
+mknntpresponsetypeok
+mtypewanted
+newspost
+mnextstate
+setupnewsstream
+setflag
+nntpsomeprotocolsucceeded
+nsresult
+rv
+nsok
+nsxpidlcstring
+groupname
+nsassertion
+mnewsfolder
+no
+newsfolder
+mnewsfolder
+rv
+mnewsfolder
+getasciiname
+gettercopies
+groupname
+mresponsecode
+mknntpresponsegroupnogroup
+mtypewanted
+groupwanted
+prlog
+nntp
+prlogalways
+group
+found
+so
+unset
+mcurrentgroup
+groupname
+mcurrentgroup
+mnntpserver
+groupnotfound
+mmsgwindow
+groupname
+get
+prtrue
+majoropcode
+mknntpresponsetypecannot
+mnextstate
+newserror
+mnextstate
+nntperror
+prbool
+savingarticleoffline
+mchannellistener
+nsnull
+mrunningurl
+finishmemcacheentry
+prfalse
+nssucceeded
+rv
+groupname
+savingarticleoffline
+markcurrentmsgread
+nsxpidlstring
+titlestr
+rv
+getnewsstringbyname
+htmlnewserrortitle
+gettercopies
+titlestr
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+newserrorstr
+rv
+getnewsstringbyname
+htmlnewserror
+gettercopies
+newserrorstr
+nsensuresuccess
+rv
+rv
+nsautostring
+errorhtml
+errorhtml
+append
+newserrorstr
+errorhtml
+append
+nsliteralstring
+get
+errorhtml
+appendwithconversion
+mresponsetext
+errorhtml
+append
+nsliteralstring
+get
+rv
+getnewsstringbyname
+articleexpired
+gettercopies
+newserrorstr
+nsensuresuccess
+rv
+rv
+errorhtml
+append
+newserrorstr
+outputbuffer
+outputbuffersize
+mkey
+nsmsgkeynone
+mnewsfolder
+nsxpidlcstring
+messageid
+rv
+mnewsfolder
+getmessageidforkey
+mkey
+gettercopies
+messageid
+nssucceeded
+rv
+prsnprintf
+outputbuffer
+outputbuffersize
+lt
+gt
+lu
+messageid
+mkey
+errorhtml
+appendwithconversion
+outputbuffer
+mnewsfolder
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+mnewsfolder
+rv
+nssucceeded
+rv
+folder
+nsxpidlcstring
+folderuri
+rv
+folder
+geturi
+gettercopies
+folderuri
+nssucceeded
+rv
+prsnprintf
+outputbuffer
+outputbuffersize
+href
+list
+ids
+folderuri
+errorhtml
+appendwithconversion
+outputbuffer
+rv
+getnewsstringbyname
+removeexpiredartlinktext
+gettercopies
+newserrorstr
+nsensuresuccess
+rv
+rv
+errorhtml
+append
+newserrorstr
+errorhtml
+append
+nsliteralstring
+get
+mmsgwindow
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+rv
+mailnewsurl
+getmsgwindow
+getteraddrefs
+mmsgwindow
+nsensuresuccess
+rv
+rv
+mmsgwindow
+nserrorfailure
+rv
+mmsgwindow
+displayhtmlinmessagepane
+prunichar
+titlestr
+errorhtml
+get
+nsensuresuccess
+rv
+rv
+savingarticleoffline
+mkey
+nsmsgkeynone
+mnewsfolder
+rv
+mnewsfolder
+removemessage
+mkey
+mknntpservererror
+ifdef
+unreadycode
+fegraphprogressinit
+ce
+windowid
+ce
+urls
+ce
+urls
+contentlength
+nntplognote
+start
+the
+graph
+progress
+indicator
+endif
+setflag
+nntpdestroyprogressgraph
+ifdef
+unreadycode
+moriginalcontentlength
+ce
+urls
+contentlength
+endif
+status
+print
+nsnntpprotocol
+sendgroupforarticle
+nsresult
+rv
+print
+status
+nsxpidlcstring
+groupname
+rv
+mnewsfolder
+getasciiname
+gettercopies
+groupname
+nsassertion
+nssucceeded
+rv
+groupname
+get
+groupname
+get
+no
+group
+name
+outputbuffer
+outputbuffersize
+prsnprintf
+outputbuffer
+outputbuffersize
+group
+crlf
+groupname
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+status
+senddata
+mailnewsurl
+outputbuffer
+mnextstate
+nntpresponse
+mnextstateafterresponse
+nntpsendgroupforarticleresponse
+setflag
+nntppauseforread
+status
+nsresult
+nsnntpprotocol
+setcurrentgroup
+nsresult
+rv
+nsxpidlcstring
+groupname
+nsassertion
+mnewsfolder
+no
+news
+folder
+mnewsfolder
+mcurrentgroup
+nserrorunexpected
+rv
+mnewsfolder
+getasciiname
+gettercopies
+groupname
+nsassertion
+nssucceeded
+rv
+groupname
+get
+no
+group
+name
+prlog
+nntp
+prlogalways
+setcurrentgroup
+to
+groupname
+mcurrentgroup
+groupname
+nsok
+print
+nsnntpprotocol
+sendgroupforarticleresponse
+mnextstate
+nntpsendarticlenumber
+setcurrentgroup
+print
+nsnntpprotocol
+sendarticlenumber
+outputbuffer
+outputbuffersize
+print
+status
+prsnprintf
+outputbuffer
+outputbuffersize
+article
+lu
+crlf
+mkey
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+status
+senddata
+mailnewsurl
+outputbuffer
+mnextstate
+nntpresponse
+mnextstateafterresponse
+sendfirstnntpcommandresponse
+setflag
+nntppauseforread
+status
+print
+nsnntpprotocol
+beginarticle
+mtypewanted
+articlewanted
+mtypewanted
+cancelwanted
+ifdef
+unreadycode
+ce
+urls
+contenttype
+nscrt
+strdup
+messagerfc
+endif
+ifdef
+noarticlecacheing
+ce
+formatout
+clearcachebit
+ce
+formatout
+endif
+mtypewanted
+cancelwanted
+ifdef
+unreadycode
+nsassertion
+ce
+formatout
+fopresent
+formatout
+fopresent
+ce
+formatout
+fopresent
+endif
+ifdef
+unreadycode
+clearcachebit
+ce
+formatout
+fopresent
+status
+netinitializenewsfedata
+ce
+status
+status
+cd
+stream
+netstreambuilder
+ce
+formatout
+ce
+urls
+ce
+windowid
+nsassertion
+cd
+stream
+no
+stream
+cd
+stream
+endif
+mchannellistener
+nsresult
+rv
+rv
+nsnewpipe
+getteraddrefs
+mdisplayinputstream
+getteraddrefs
+mdisplayoutputstream
+pruint
+nsassertion
+nssucceeded
+rv
+failed
+to
+create
+pipe
+mnextstate
+nntpreadarticle
+print
+nsnntpprotocol
+displayarticle
+nsiinputstream
+inputstream
+pruint
+length
+pruint
+status
+prbool
+pauseformoredata
+prfalse
+mchannellistener
+line
+mlinestreambuffer
+readnextline
+inputstream
+status
+pauseformoredata
+pauseformoredata
+pruint
+inlength
+mdisplayinputstream
+available
+inlength
+inlength
+mchannellistener
+ondataavailable
+mchannelcontext
+mdisplayinputstream
+inlength
+setflag
+nntppauseforread
+prfreeif
+line
+status
+mnewsfolder
+mnewsfolder
+notifydownloadedline
+line
+mkey
+line
+line
+mnextstate
+newsdone
+markcurrentmsgread
+clearflag
+nntppauseforread
+pruint
+inlength
+mdisplayinputstream
+available
+inlength
+inlength
+mchannellistener
+ondataavailable
+mchannelcontext
+mdisplayinputstream
+inlength
+prfreeif
+line
+status
+pruint
+count
+line
+mdisplayoutputstream
+write
+line
+plstrlen
+line
+count
+mdisplayoutputstream
+write
+line
+plstrlen
+line
+count
+mdisplayoutputstream
+write
+msglinebreak
+plstrlen
+msglinebreak
+count
+prfreeif
+line
+nsresult
+nsnntpprotocol
+markcurrentmsgread
+nscomptr
+nsimsgdbhdr
+msghdr
+nsresult
+rv
+nsok
+mrunningurl
+mmessageid
+mkey
+nsmsgkeynone
+rv
+mrunningurl
+getmessageheader
+getteraddrefs
+msghdr
+nssucceeded
+rv
+msghdr
+prbool
+isread
+msghdr
+getisread
+isread
+isread
+msghdr
+markread
+prtrue
+rv
+print
+nsnntpprotocol
+readarticle
+nsiinputstream
+inputstream
+pruint
+length
+pruint
+status
+outputbuffer
+prbool
+pauseformoredata
+prfalse
+mchannellistener
+displayarticle
+inputstream
+length
+line
+mlinestreambuffer
+readnextline
+inputstream
+status
+pauseformoredata
+mnewsfolder
+line
+mnewsfolder
+notifydownloadedline
+line
+mkey
+pauseformoredata
+setflag
+nntppauseforread
+status
+ifdef
+unreadycode
+ce
+bytesreceived
+status
+fegraphprogress
+ce
+windowid
+ce
+urls
+ce
+bytesreceived
+status
+ce
+urls
+contentlength
+mbytesreceived
+status
+mbytesreceivedsincelaststatusupdate
+status
+endif
+line
+status
+nscomptr
+nsisupports
+ctxt
+doqueryinterface
+mrunningurl
+mtypewanted
+cancelwanted
+mresponsecode
+mknntpresponsearticlehead
+prfreeif
+line
+mknntpcancelerror
+line
+line
+mtypewanted
+cancelwanted
+mnextstate
+newsstartcancel
+mnextstate
+newsdone
+clearflag
+nntppauseforread
+line
+outputbuffer
+line
+outputbuffer
+line
+mtypewanted
+cancelwanted
+nscrt
+strncmp
+outputbuffer
+content
+type
+mtypewanted
+cancelwanted
+parseheaderforcancel
+outputbuffer
+prfreeif
+line
+nsnntpprotocol
+parseheaderforcancel
+buf
+nscautostring
+header
+buf
+print
+colon
+header
+findchar
+colon
+nscautostring
+value
+header
+right
+value
+header
+length
+colon
+value
+stripwhitespace
+header
+first
+header
+find
+from
+prtrue
+prfreeif
+mcancelfromhdr
+mcancelfromhdr
+tonewcstring
+value
+header
+find
+message
+id
+prtrue
+prfreeif
+mcancelid
+mcancelid
+tonewcstring
+value
+header
+find
+newsgroups
+prtrue
+prfreeif
+mcancelnewsgroups
+mcancelnewsgroups
+tonewcstring
+value
+header
+find
+distributions
+prtrue
+prfreeif
+mcanceldistribution
+mcanceldistribution
+tonewcstring
+value
+print
+nsnntpprotocol
+beginauthorization
+command
+nsxpidlcstring
+username
+nsresult
+rv
+nsok
+print
+status
+nsxpidlcstring
+cachedusername
+mnewsfolder
+mnntpserver
+nscomptr
+nsimsgincomingserver
+server
+doqueryinterface
+mnntpserver
+mnntpserver
+nscomptr
+nsifolder
+rootfolder
+rv
+server
+getrootfolder
+getteraddrefs
+rootfolder
+nssucceeded
+rv
+rootfolder
+mnewsfolder
+doqueryinterface
+rootfolder
+nsassertion
+mnewsfolder
+no
+mnewsfolder
+mnewsfolder
+rv
+mnewsfolder
+getgroupusername
+gettercopies
+cachedusername
+nsfailed
+rv
+cachedusername
+rv
+nsok
+nntplognote
+ask
+the
+news
+username
+nsxpidlstring
+usernameprompttext
+getnewsstringbyname
+enterusername
+gettercopies
+usernameprompttext
+mnewsfolder
+mmsgwindow
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+rv
+mailnewsurl
+getmsgwindow
+getteraddrefs
+mmsgwindow
+rv
+mnewsfolder
+getgroupusernamewithui
+usernameprompttext
+nsnull
+mmsgwindow
+gettercopies
+username
+ifdef
+debugsspitzer
+printf
+we
+don
+know
+the
+folder
+printf
+can
+happen
+someone
+gives
+us
+just
+an
+article
+url
+endif
+mknntpauthfailed
+nsfailed
+rv
+alerterror
+mknntpauthfailed
+aborted
+by
+user
+mknntpauthfailed
+nsfailed
+rv
+username
+cachedusername
+mknntpauthfailed
+nsmsgsacopy
+command
+authinfo
+user
+cachedusername
+prlog
+nntp
+prlogalways
+use
+as
+the
+username
+cachedusername
+nsmsgsacat
+command
+cachedusername
+prlog
+nntp
+prlogalways
+use
+as
+the
+username
+username
+nsmsgsacat
+command
+username
+nsmsgsacat
+command
+crlf
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+status
+senddata
+mailnewsurl
+command
+prfree
+command
+mnextstate
+nntpresponse
+mnextstateafterresponse
+nntpauthorizeresponse
+setflag
+nntppauseforread
+status
+print
+nsnntpprotocol
+authorizationresponse
+nsresult
+rv
+nsok
+print
+status
+mknntpresponseauthinfook
+mresponsecode
+mknntpresponseauthinfosimpleok
+mresponsecode
+ifdef
+havenntpextensions
+prbool
+pushauth
+rv
+mnntpserver
+getpushauth
+pushauth
+testflag
+nntpreaderperformed
+mnextstate
+nntpsendmodereader
+nssucceeded
+rv
+pushauth
+mnextstate
+sendlistextensions
+mnextstate
+sendfirstnntpcommand
+testflag
+nntpreaderperformed
+mnextstate
+nntpsendmodereader
+mnextstate
+sendfirstnntpcommand
+endif
+mknntpresponseauthinfocont
+mresponsecode
+command
+nsxpidlcstring
+password
+nsxpidlcstring
+cachedpassword
+nsassertion
+mnewsfolder
+no
+newsfolder
+mnewsfolder
+rv
+mnewsfolder
+getgrouppassword
+gettercopies
+cachedpassword
+nsfailed
+rv
+cachedpassword
+rv
+nsok
+nntplognote
+ask
+the
+news
+password
+nsxpidlstring
+passwordprompttext
+getnewsstringbyname
+enterpassword
+gettercopies
+passwordprompttext
+nsxpidlstring
+passwordprompttitletext
+getnewsstringbyname
+enterpasswordtitle
+gettercopies
+passwordprompttitletext
+nsassertion
+mnewsfolder
+no
+newsfolder
+mnewsfolder
+mmsgwindow
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+rv
+mailnewsurl
+getmsgwindow
+getteraddrefs
+mmsgwindow
+rv
+mnewsfolder
+getgrouppasswordwithui
+passwordprompttext
+passwordprompttitletext
+mmsgwindow
+gettercopies
+password
+nntplognote
+we
+don
+know
+the
+folder
+nntplognote
+can
+happen
+someone
+gives
+us
+just
+an
+article
+url
+mknntpauthfailed
+nsfailed
+rv
+alerterror
+mknntpauthfailed
+aborted
+by
+user
+mknntpauthfailed
+nsfailed
+rv
+password
+cachedpassword
+mknntpauthfailed
+nsmsgsacopy
+command
+authinfo
+pass
+cachedpassword
+prlog
+nntp
+prlogalways
+use
+cached
+password
+nsmsgsacat
+command
+cachedpassword
+nsmsgsacat
+command
+password
+nsmsgsacat
+command
+crlf
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+status
+senddata
+mailnewsurl
+command
+prtrue
+prfreeif
+command
+mnextstate
+nntpresponse
+mnextstateafterresponse
+nntppasswordresponse
+setflag
+nntppauseforread
+status
+alerterror
+mknntpauthfailed
+mresponsetext
+nsassertion
+mnewsfolder
+no
+newsfolder
+mnewsfolder
+rv
+mnewsfolder
+forgetgroupusername
+rv
+mnewsfolder
+forgetgrouppassword
+mknntpauthfailed
+nsassertion
+should
+never
+get
+here
+print
+nsnntpprotocol
+passwordresponse
+nsresult
+rv
+nsok
+mknntpresponseauthinfook
+mresponsecode
+mknntpresponseauthinfosimpleok
+mresponsecode
+ifdef
+havenntpextensions
+prbool
+pushauth
+rv
+mnntpserver
+getpushauth
+pushauth
+testflag
+nntpreaderperformed
+mnextstate
+nntpsendmodereader
+nssucceeded
+rv
+pushauth
+mnextstate
+sendlistextensions
+mnextstate
+sendfirstnntpcommand
+testflag
+nntpreaderperformed
+mnextstate
+nntpsendmodereader
+mnextstate
+sendfirstnntpcommand
+endif
+alerterror
+mknntpauthfailed
+mresponsetext
+nsassertion
+mnewsfolder
+no
+newsfolder
+mnewsfolder
+rv
+mnewsfolder
+forgetgroupusername
+rv
+mnewsfolder
+forgetgrouppassword
+mknntpauthfailed
+nsassertion
+should
+never
+get
+here
+print
+nsnntpprotocol
+displaynewsgroups
+mnextstate
+newsdone
+clearflag
+nntppauseforread
+prlog
+nntp
+prlogalways
+displaynewsgroups
+mkdataloaded
+print
+nsnntpprotocol
+beginnewsgroups
+print
+status
+mnextstate
+nntpnewgroups
+ifdef
+unreadycode
+netprogress
+ce
+windowid
+xpgetstring
+xpprogressreceivenewsgroup
+ce
+bytesreceived
+mbytesreceived
+mbytesreceivedsincelaststatusupdate
+mstarttime
+prnow
+endif
+status
+print
+nsnntpprotocol
+processnewsgroups
+nsiinputstream
+inputstream
+pruint
+length
+line
+linetofree
+flag
+print
+oldest
+youngest
+pruint
+status
+nsresult
+rv
+nsok
+prbool
+pauseformoredata
+prfalse
+line
+linetofree
+mlinestreambuffer
+readnextline
+inputstream
+status
+pauseformoredata
+pauseformoredata
+setflag
+nntppauseforread
+line
+status
+line
+line
+clearflag
+nntppauseforread
+prbool
+xactive
+prfalse
+rv
+mnntpserver
+queryextension
+xactive
+xactive
+nssucceeded
+rv
+xactive
+nsxpidlcstring
+groupname
+rv
+mnntpserver
+getfirstgroupneedingextrainfo
+gettercopies
+groupname
+nssucceeded
+rv
+rv
+mnntpserver
+findgroup
+groupname
+getteraddrefs
+mnewsfolder
+nsassertion
+nssucceeded
+rv
+findgroup
+failed
+mnextstate
+nntplistxactive
+prlog
+nntp
+prlogalways
+listing
+xactive
+groupname
+prfree
+linetofree
+mnextstate
+newsdone
+ifdef
+unreadycode
+ce
+bytesreceived
+endif
+prfree
+linetofree
+status
+mkdataloaded
+status
+line
+line
+line
+status
+ifdef
+unreadycode
+ce
+bytesreceived
+status
+fegraphprogress
+ce
+windowid
+ce
+urls
+ce
+bytesreceived
+status
+ce
+urls
+contentlength
+mbytesreceived
+status
+mbytesreceivedsincelaststatusupdate
+status
+endif
+plstrchr
+line
+plstrchr
+plstrchr
+flag
+youngest
+atol
+oldest
+atol
+ifdef
+unreadycode
+ce
+bytesreceived
+mbytesreceived
+status
+mbytesreceivedsincelaststatusupdate
+status
+endif
+nsassertion
+mnntpserver
+no
+nntp
+incoming
+server
+mnntpserver
+rv
+mnntpserver
+addnewsgrouptolist
+line
+nsassertion
+nssucceeded
+rv
+failed
+to
+add
+to
+subscribe
+ds
+prbool
+xactive
+prfalse
+rv
+mnntpserver
+queryextension
+xactive
+xactive
+nssucceeded
+rv
+xactive
+mnntpserver
+setgroupneedsextrainfo
+line
+prtrue
+prfree
+linetofree
+status
+print
+nsnntpprotocol
+beginreadnewslist
+mreadnewslistcount
+mnumgroupslisted
+mnextstate
+nntpreadlist
+mbytesreceived
+mbytesreceivedsincelaststatusupdate
+mstarttime
+prnow
+print
+status
+ifdef
+unreadycode
+netprogress
+ce
+windowid
+xpgetstring
+xpprogressreceivenewsgroup
+endif
+status
+define
+rateconstant
+computerate
+print
+bytes
+prtime
+starttime
+rate
+prtime
+timesincestart
+prtime
+now
+prnow
+llsub
+timesincestart
+now
+starttime
+print
+delta
+llli
+delta
+timesincestart
+delta
+rate
+bytes
+rateconstant
+delta
+rate
+print
+nsnntpprotocol
+readnewslist
+nsiinputstream
+inputstream
+pruint
+length
+nsresult
+rv
+nsok
+print
+pruint
+status
+prbool
+pauseformoredata
+prfalse
+line
+linetofree
+line
+linetofree
+mlinestreambuffer
+readnextline
+inputstream
+status
+pauseformoredata
+pauseformoredata
+setflag
+nntppauseforread
+prfree
+linetofree
+line
+status
+line
+line
+prbool
+listpnames
+prfalse
+nsassertion
+mnntpserver
+no
+nntp
+incoming
+server
+mnntpserver
+rv
+mnntpserver
+queryextension
+listpnames
+listpnames
+nssucceeded
+rv
+listpnames
+mnextstate
+nntplistprettynames
+mnextstate
+displaynewsgroups
+clearflag
+nntppauseforread
+prfree
+linetofree
+line
+line
+line
+line
+line
+prfree
+linetofree
+status
+line
+status
+mbytesreceived
+status
+mbytesreceivedsincelaststatusupdate
+status
+mbytesreceivedsincelaststatusupdate
+updatethreshhold
+mmsgwindow
+mbytesreceivedsincelaststatusupdate
+nscomptr
+nsimsgstatusfeedback
+msgstatusfeedback
+rv
+mmsgwindow
+getstatusfeedback
+getteraddrefs
+msgstatusfeedback
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+statusstring
+nscomptr
+nsistringbundleservice
+bundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsistringbundle
+bundle
+rv
+bundleservice
+createbundle
+newsmsgsurl
+getteraddrefs
+bundle
+nsensuresuccess
+rv
+rv
+nsautostring
+bytesstr
+bytesstr
+appendint
+mbytesreceived
+rate
+computerate
+mbytesreceived
+mstarttime
+rate
+ratebuf
+ratestrbuflen
+prsnprintf
+ratebuf
+ratestrbuflen
+rate
+nsautostring
+ratestr
+ratestr
+appendwithconversion
+ratebuf
+nsautostring
+numgroupsstr
+numgroupsstr
+appendint
+mnumgroupslisted
+prunichar
+formatstrings
+numgroupsstr
+get
+bytesstr
+get
+ratestr
+get
+rv
+bundle
+formatstringfromname
+nsliteralstring
+bytesreceived
+get
+formatstrings
+gettercopies
+statusstring
+rv
+msgstatusfeedback
+showstatusstring
+statusstring
+nsfailed
+rv
+prfree
+linetofree
+rv
+line
+netisspace
+line
+description
+line
+description
+line
+description
+line
+line
+nsassertion
+mnntpserver
+no
+nntp
+incoming
+server
+mnntpserver
+mreadnewslistcount
+mnumgroupslisted
+rv
+mnntpserver
+addnewsgrouptolist
+line
+nsassertion
+nssucceeded
+rv
+failed
+to
+add
+to
+subscribe
+ds
+rv
+nsok
+rv
+nserrorfailure
+mreadnewslistcount
+readnewslistcountmax
+mreadnewslistcount
+mupdatetimer
+mupdatetimer
+cancel
+mupdatetimer
+nsnull
+mupdatetimer
+docreateinstance
+timer
+rv
+nsassertion
+nssucceeded
+rv
+failed
+to
+create
+timer
+nsfailed
+rv
+prfree
+linetofree
+minputstream
+inputstream
+pruint
+kupdatetimerdelay
+readnewslisttimeout
+rv
+mupdatetimer
+initwithcallback
+nsstaticcast
+nsitimercallback
+kupdatetimerdelay
+nsitimer
+typeoneshot
+nsassertion
+nssucceeded
+rv
+failed
+to
+init
+timer
+nsfailed
+rv
+prfree
+linetofree
+mnextstate
+newsfinished
+mrequest
+mrequest
+suspend
+prfree
+linetofree
+nsfailed
+rv
+status
+nsimethodimp
+nsnntpprotocol
+notify
+nsitimer
+timer
+nsassertion
+timer
+mupdatetimer
+get
+hey
+ain
+my
+timer
+mupdatetimer
+nsnull
+timercallback
+nsok
+nsnntpprotocol
+timercallback
+prlog
+nntp
+prlogalways
+nsnntpprotocol
+timercallback
+mnextstate
+nntpreadlist
+processprotocolstate
+nsnull
+minputstream
+mrequest
+mrequest
+resume
+print
+nsnntpprotocol
+beginreadxover
+print
+count
+nsresult
+rv
+nsok
+rv
+setcurrentgroup
+nsfailed
+rv
+setflag
+nntpsomeprotocolsucceeded
+prsscanf
+mresponsetext
+count
+mfirstpossiblearticle
+mlastpossiblearticle
+mnewsgrouplist
+docreateinstance
+nsnntpnewsgrouplistcontractid
+rv
+nsfailed
+rv
+rv
+mnewsgrouplist
+initialize
+mrunningurl
+mnewsfolder
+nsfailed
+rv
+rv
+mnewsfolder
+updatesummaryfromnntpinfo
+mfirstpossiblearticle
+mlastpossiblearticle
+count
+nsfailed
+rv
+mnumarticlesloaded
+mnumarticleswanted
+mmaxarticles
+mmaxarticles
+mnextstate
+nntpfigurenextchunk
+clearflag
+nntppauseforread
+print
+nsnntpprotocol
+figurenextchunk
+nsresult
+rv
+nsok
+print
+status
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mfirstarticle
+prlog
+nntp
+prlogalways
+add
+to
+known
+articles
+mfirstarticle
+mlastarticle
+nssucceeded
+rv
+mnewsgrouplist
+rv
+mnewsgrouplist
+addtoknownarticles
+mfirstarticle
+mlastarticle
+nsfailed
+rv
+status
+mnumarticlesloaded
+mnumarticleswanted
+mnextstate
+newsprocessxover
+clearflag
+nntppauseforread
+nsassertion
+mnewsgrouplist
+no
+newsgrouplist
+mnewsgrouplist
+prbool
+getoldmessages
+prfalse
+mrunningurl
+rv
+mrunningurl
+getgetoldmessages
+getoldmessages
+nsfailed
+rv
+status
+rv
+mnewsgrouplist
+setgetoldmessages
+getoldmessages
+nsfailed
+rv
+status
+rv
+mnewsgrouplist
+getrangeofartstodownload
+mmsgwindow
+mfirstpossiblearticle
+mlastpossiblearticle
+mnumarticleswanted
+mnumarticlesloaded
+mfirstarticle
+mlastarticle
+status
+nsfailed
+rv
+status
+mfirstarticle
+mfirstarticle
+mlastarticle
+mnextstate
+newsprocessxover
+clearflag
+nntppauseforread
+prlog
+nntp
+prlogalways
+chunk
+will
+be
+mfirstarticle
+mlastarticle
+marticlenumber
+mfirstarticle
+mnewsgrouplist
+rv
+mnewsgrouplist
+initxover
+mfirstarticle
+mlastarticle
+status
+nsfailed
+rv
+status
+status
+clearflag
+nntppauseforread
+testflag
+nntpnoxoversupport
+mnextstate
+nntpreadgroup
+mnextstate
+nntpxoversend
+print
+nsnntpprotocol
+xoversend
+outputbuffer
+outputbuffersize
+print
+status
+prsnprintf
+outputbuffer
+outputbuffersize
+xover
+crlf
+mfirstarticle
+mlastarticle
+nntplogwrite
+outputbuffer
+mnextstate
+nntpresponse
+mnextstateafterresponse
+nntpxoverresponse
+setflag
+nntppauseforread
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+status
+senddata
+mailnewsurl
+outputbuffer
+status
+print
+nsnntpprotocol
+readxoverresponse
+ifdef
+testnoxoversupport
+mresponsecode
+mknntpresponsecheckerror
+endif
+mresponsecode
+mknntpresponsexoverok
+mnextstate
+nntpreadgroup
+setflag
+nntpnoxoversupport
+mnextstate
+nntpxover
+print
+nsnntpprotocol
+readxover
+nsiinputstream
+inputstream
+pruint
+length
+line
+linetofree
+nsresult
+rv
+pruint
+status
+prbool
+pauseformoredata
+prfalse
+line
+linetofree
+mlinestreambuffer
+readnextline
+inputstream
+status
+pauseformoredata
+pauseformoredata
+setflag
+nntppauseforread
+line
+status
+line
+line
+mnextstate
+nntpfigurenextchunk
+clearflag
+nntppauseforread
+prfree
+linetofree
+line
+line
+line
+status
+mbytesreceived
+status
+mbytesreceivedsincelaststatusupdate
+status
+rv
+mnewsgrouplist
+processxoverline
+line
+status
+nsassertion
+nssucceeded
+rv
+failed
+to
+process
+the
+xoverline
+mnumarticlesloaded
+prfree
+linetofree
+nssucceeded
+rv
+status
+print
+nsnntpprotocol
+processxover
+nsresult
+rv
+nsassertion
+mnewsgrouplist
+no
+newsgrouplist
+mnewsgrouplist
+print
+status
+rv
+mnewsgrouplist
+finishxoverline
+status
+mnewsgrouplist
+nsnull
+nssucceeded
+rv
+status
+status
+mnextstate
+newsdone
+mkdataloaded
+print
+nsnntpprotocol
+readnewsgroup
+marticlenumber
+mlastarticle
+mnextstate
+nntpfigurenextchunk
+clearflag
+nntppauseforread
+outputbuffer
+outputbuffersize
+prsnprintf
+outputbuffer
+outputbuffersize
+head
+ld
+crlf
+marticlenumber
+mnextstate
+nntpresponse
+mnextstateafterresponse
+nntpreadgroupresponse
+setflag
+nntppauseforread
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+senddata
+mailnewsurl
+outputbuffer
+print
+nsnntpprotocol
+readnewsgroupresponse
+nsresult
+rv
+mresponsecode
+mknntpresponsearticlehead
+mnextstate
+nntpreadgroupbody
+mmessageid
+mmessageid
+mkey
+nsmsgkeynone
+rv
+mnewsgrouplist
+processnonxover
+mresponsetext
+nsfailed
+rv
+nntplognote
+bad
+group
+header
+found
+mnextstate
+nntpreadgroup
+print
+nsnntpprotocol
+readnewsgroupbody
+nsiinputstream
+inputstream
+pruint
+length
+line
+linetofree
+nsresult
+rv
+pruint
+status
+prbool
+pauseformoredata
+prfalse
+line
+linetofree
+mlinestreambuffer
+readnextline
+inputstream
+status
+pauseformoredata
+pauseformoredata
+setflag
+nntppauseforread
+line
+status
+prlog
+nntp
+prlogalways
+readgroupbody
+got
+line
+line
+line
+line
+mnextstate
+nntpreadgroup
+clearflag
+nntppauseforread
+line
+line
+line
+rv
+mnewsgrouplist
+processnonxover
+line
+prfree
+linetofree
+nsfailed
+rv
+nsresult
+nsnntpprotocol
+getnewsstringbyid
+print
+stringid
+prunichar
+astring
+nsresult
+rv
+nsautostring
+resultstring
+nsliteralstring
+mstringbundle
+propertyurl
+newsmsgsurl
+nscomptr
+nsistringbundleservice
+bundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+bundleservice
+createbundle
+propertyurl
+getteraddrefs
+mstringbundle
+nsensuresuccess
+rv
+rv
+mstringbundle
+prunichar
+ptrv
+nsnull
+rv
+mstringbundle
+getstringfromid
+stringid
+ptrv
+nsfailed
+rv
+resultstring
+assign
+nsliteralstring
+stringid
+resultstring
+appendint
+stringid
+resultstring
+append
+nsliteralstring
+astring
+tonewunicode
+resultstring
+astring
+ptrv
+rv
+nsok
+astring
+tonewunicode
+resultstring
+rv
+nsresult
+nsnntpprotocol
+getnewsstringbyname
+aname
+prunichar
+astring
+nsresult
+rv
+nsautostring
+resultstring
+nsliteralstring
+mstringbundle
+propertyurl
+newsmsgsurl
+nscomptr
+nsistringbundleservice
+bundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+bundleservice
+createbundle
+propertyurl
+getteraddrefs
+mstringbundle
+mstringbundle
+nsautostring
+unicodename
+unicodename
+assignwithconversion
+aname
+prunichar
+ptrv
+nsnull
+rv
+mstringbundle
+getstringfromname
+unicodename
+get
+ptrv
+nsfailed
+rv
+resultstring
+assign
+nsliteralstring
+stringname
+resultstring
+appendwithconversion
+aname
+resultstring
+append
+nsliteralstring
+astring
+tonewunicode
+resultstring
+astring
+ptrv
+rv
+nsok
+astring
+tonewunicode
+resultstring
+rv
+print
+nsnntpprotocol
+postmessageinfile
+nsifilespec
+apostmessagefile
+nscomptr
+nsiuri
+url
+doqueryinterface
+mrunningurl
+url
+apostmessagefile
+nsmsgprotocol
+postmessage
+url
+apostmessagefile
+setflag
+nntppauseforread
+plstrcpy
+mdatabuf
+crlf
+crlf
+url
+senddata
+url
+mdatabuf
+ifdef
+unreadycode
+netprogress
+cewindowid
+xpgetstring
+xpmessagesentwaitingmailreply
+endif
+mnextstate
+nntpresponse
+mnextstateafterresponse
+nntpsendpostdataresponse
+print
+nsnntpprotocol
+postdata
+nntplognote
+nsnntpprotocol
+postdata
+nsresult
+rv
+nsok
+nscomptr
+nsinntpnewsgrouppost
+message
+rv
+mrunningurl
+getmessagetopost
+getteraddrefs
+message
+nssucceeded
+rv
+nscomptr
+nsifilespec
+filepath
+rv
+message
+getpostmessagefile
+getteraddrefs
+filepath
+nssucceeded
+rv
+postmessageinfile
+filepath
+ifdef
+unreadycode
+status
+netwritepostdata
+ce
+windowid
+ce
+urls
+ce
+socket
+cd
+writepostdatadata
+prtrue
+setflag
+nntppauseforread
+status
+plstrcpy
+cd
+outputbuffer
+crlf
+crlf
+nntplogwrite
+cd
+outputbuffer
+status
+netblockingwrite
+ce
+socket
+cd
+outputbuffer
+plstrlen
+cd
+outputbuffer
+nntplogwrite
+cd
+outputbuffer
+netprogress
+ce
+windowid
+xpgetstring
+xpmessagesentwaitingnewsreply
+netclearconnectselect
+ce
+windowid
+ce
+socket
+ifdef
+xpwin
+cd
+callingnetliballthetime
+cd
+callingnetliballthetime
+prfalse
+netcallallthetimecount
+netcallallthetimecount
+endif
+netclearcallnetliballthetime
+ce
+windowid
+mknews
+endif
+netsetreadselect
+ce
+windowid
+ce
+socket
+ce
+consock
+mnextstate
+nntpresponse
+mnextstateafterresponse
+nntpsendpostdataresponse
+status
+endif
+print
+nsnntpprotocol
+postdataresponse
+mresponsecode
+mknntpresponsepostok
+alerterror
+mknntperrormessage
+mresponsetext
+ifdef
+unreadycode
+ce
+urls
+errormsg
+netexplainerrordetails
+mknntperrormessage
+mresponsetext
+mresponsetext
+mresponsecode
+mknntpresponsepostfailed
+msggetpanetype
+cd
+pane
+msgcompositionpane
+msgisduplicatepost
+cd
+pane
+msggetcompositionmessageid
+cd
+pane
+prsnprintf
+cd
+outputbuffer
+outputbuffersize
+stat
+crlf
+msggetcompositionmessageid
+cd
+pane
+mnextstate
+nntpresponse
+mnextstateafterresponse
+nntpcheckformessage
+nntplogwrite
+cd
+outputbuffer
+netblockingwrite
+ce
+socket
+cd
+outputbuffer
+plstrlen
+cd
+outputbuffer
+msgclearcompositionmessageid
+cd
+pane
+endif
+mnextstate
+newserror
+mknntperrormessage
+mnextstate
+newspostdone
+clearflag
+nntppauseforread
+mkdataloaded
+print
+nsnntpprotocol
+checkforarticle
+mnextstate
+newserror
+mresponsecode
+mresponsecode
+mkdataloaded
+ifdef
+unreadycode
+msgclearcompositionmessageid
+cd
+pane
+endif
+mknntperrormessage
+define
+newsgroupdisplayfreq
+nsresult
+nsnntpprotocol
+setcheckingfornewnewsstatus
+print
+current
+print
+total
+nsresult
+rv
+nsxpidlstring
+statusstring
+nscomptr
+nsistringbundleservice
+bundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsistringbundle
+bundle
+rv
+bundleservice
+createbundle
+newsmsgsurl
+getteraddrefs
+bundle
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgincomingserver
+server
+doqueryinterface
+mnntpserver
+rv
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+hostname
+rv
+server
+gethostname
+gettercopies
+hostname
+nsensuresuccess
+rv
+rv
+nsautostring
+thisgroupstr
+thisgroupstr
+appendint
+current
+nsautostring
+totalgroupstr
+totalgroupstr
+appendint
+total
+nsautostring
+hostnamestr
+hostnamestr
+assignwithconversion
+hostname
+get
+prunichar
+formatstrings
+thisgroupstr
+get
+totalgroupstr
+get
+hostnamestr
+get
+rv
+bundle
+formatstringfromname
+nsliteralstring
+checkingfornewnews
+get
+formatstrings
+gettercopies
+statusstring
+nsensuresuccess
+rv
+rv
+rv
+setprogressstatus
+statusstring
+nsensuresuccess
+rv
+rv
+setprogressbarpercent
+current
+total
+nsok
+print
+nsnntpprotocol
+displaynewsrc
+print
+status
+nsresult
+rv
+testflag
+nntpnewsrcperformed
+setflag
+nntpnewsrcperformed
+rv
+mnntpserver
+getnumgroupsneedingcounts
+mnewsrclistcount
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupports
+currchild
+rv
+mnntpserver
+getfirstgroupneedingcounts
+getteraddrefs
+currchild
+nsfailed
+rv
+clearflag
+nntpnewsrcperformed
+currchild
+clearflag
+nntpnewsrcperformed
+mnextstate
+newsdone
+mnewsrclistcount
+rv
+setprogressstatus
+nsliteralstring
+get
+nsensuresuccess
+rv
+rv
+setprogressbarpercent
+mnewsrclistcount
+status
+mresponsecode
+mknntpresponselistok
+status
+mkemptynewslist
+status
+mkdataloaded
+status
+nscomptr
+nsifolder
+currfolder
+doqueryinterface
+currchild
+rv
+nsfailed
+rv
+currfolder
+mnewsfolder
+doqueryinterface
+currfolder
+rv
+nsfailed
+rv
+mnewsfolder
+nsxpidlcstring
+name
+rv
+mnewsfolder
+getasciiname
+gettercopies
+name
+nsfailed
+rv
+name
+outputbuffer
+outputbuffersize
+prsnprintf
+outputbuffer
+outputbuffersize
+group
+crlf
+name
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+status
+senddata
+mailnewsurl
+outputbuffer
+mnewsrclistcount
+newsgroupdisplayfreq
+mnewsrclistindex
+newsgroupdisplayfreq
+mnewsrclistindex
+mnewsrclistcount
+rv
+setcheckingfornewnewsstatus
+mnewsrclistindex
+mnewsrclistcount
+nsfailed
+rv
+mnewsrclistindex
+setflag
+nntppauseforread
+mnextstate
+nntpresponse
+mnextstateafterresponse
+newsdisplaynewsrcresponse
+status
+print
+nsnntpprotocol
+displaynewsrcresponse
+nsresult
+rv
+nsok
+print
+status
+mresponsecode
+mknntpresponsegroupselected
+numarts
+low
+high
+group
+print
+firstart
+lastart
+numarts
+mresponsetext
+low
+plstrchr
+numarts
+low
+firstart
+atol
+low
+low
+high
+plstrchr
+low
+high
+high
+group
+plstrchr
+high
+group
+group
+strtok
+group
+lastart
+atol
+high
+mcurrentgroup
+group
+nsassertion
+mnntpserver
+no
+server
+mnntpserver
+rv
+mnntpserver
+displaysubscribedgroup
+mnewsfolder
+low
+atol
+low
+high
+atol
+high
+atol
+numarts
+nsassertion
+nssucceeded
+rv
+displaysubscribedgroup
+failed
+nsfailed
+rv
+status
+status
+status
+mresponsecode
+mknntpresponsegroupnogroup
+nsxpidlcstring
+name
+rv
+mnewsfolder
+getasciiname
+gettercopies
+name
+nssucceeded
+rv
+mnntpserver
+groupnotfound
+mmsgwindow
+name
+get
+prfalse
+prlog
+nntp
+prlogalways
+nogroup
+so
+unset
+mcurrentgroup
+mcurrentgroup
+mresponsecode
+mknntpresponsegroupselected
+ifdef
+debugseth
+nsassertion
+prfalse
+check
+code
+endif
+rv
+mnntpserver
+displaysubscribedgroup
+mnewsfolder
+nsassertion
+nssucceeded
+rv
+displaysubscribedgroup
+failed
+prlog
+nntp
+prlogalways
+error
+so
+unset
+mcurrentgroup
+mcurrentgroup
+mnextstate
+newsdisplaynewsrc
+print
+nsnntpprotocol
+startcancel
+print
+status
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+status
+senddata
+mailnewsurl
+nntpcmdpost
+mnextstate
+nntpresponse
+mnextstateafterresponse
+newsdocancel
+setflag
+nntppauseforread
+status
+prbool
+nsnntpprotocol
+checkifauthor
+nsisupports
+aelement
+data
+nsresult
+rv
+cancelinfoentry
+cancelinfo
+cancelinfoentry
+data
+cancelinfo
+from
+prtrue
+nscomptr
+nsimsgidentity
+identity
+doqueryinterface
+aelement
+rv
+nsfailed
+rv
+prtrue
+identity
+identity
+getemail
+cancelinfo
+from
+prlog
+nntp
+prlogalways
+from
+cancelinfo
+from
+nscomptr
+nsimsgheaderparser
+parser
+dogetservice
+nsmailnewsmimeheaderparsercontractid
+rv
+nsfailed
+rv
+prfreeif
+cancelinfo
+from
+cancelinfo
+from
+nsnull
+prtrue
+nsxpidlcstring
+us
+nsxpidlcstring
+them
+nsresult
+rv
+parser
+extractheaderaddressmailboxes
+nsnull
+cancelinfo
+from
+gettercopies
+us
+nsresult
+rv
+parser
+extractheaderaddressmailboxes
+nsnull
+cancelinfo
+oldfrom
+gettercopies
+them
+prlog
+nntp
+prlogalways
+us
+them
+us
+get
+them
+get
+nsfailed
+rv
+nsfailed
+rv
+plstrcasecmp
+us
+them
+prfreeif
+cancelinfo
+from
+cancelinfo
+from
+nsnull
+prtrue
+prfalse
+print
+nsnntpprotocol
+docancel
+print
+status
+prbool
+failure
+prfalse
+nsresult
+rv
+nsok
+id
+nsnull
+subject
+nsnull
+newsgroups
+nsnull
+distribution
+nsnull
+otherrandomheaders
+nsnull
+body
+nsnull
+cancelinfoentry
+cancelinfo
+prbool
+requireconfirmationforcancel
+prtrue
+prbool
+showalertaftercancel
+prtrue
+ifdef
+uselibmsg
+msgcompositionfields
+fields
+endif
+nsassertion
+mresponsecode
+mknntpresponsepostsendnow
+code
+postsendnow
+nsassertion
+mcancelid
+mcancelfromhdr
+mcancelnewsgroups
+ptr
+newsgroups
+mcancelnewsgroups
+distribution
+mcanceldistribution
+id
+mcancelid
+cancelinfo
+oldfrom
+mcancelfromhdr
+cancelinfo
+from
+nsnull
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprompt
+dialog
+mrunningurl
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+mrunningurl
+rv
+getpromptdialogfromurl
+msgurl
+getteraddrefs
+dialog
+nsensuresuccess
+rv
+rv
+nsassertion
+id
+newsgroups
+ptr
+id
+newsgroups
+mcancelnewsgroups
+nsnull
+mcanceldistribution
+nsnull
+mcancelfromhdr
+nsnull
+mcancelid
+nsnull
+plstrlen
+id
+subject
+prmalloc
+otherrandomheaders
+prmalloc
+body
+prmalloc
+plstrlen
+xpappcodename
+nsxpidlstring
+alerttext
+nsxpidlstring
+confirmtext
+print
+confirmcancelresult
+prbool
+cancelchk
+prfalse
+rv
+mnntpserver
+queryextension
+cancelchk
+cancelchk
+nssucceeded
+rv
+cancelchk
+nntplognote
+cancelchk
+supported
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nssucceeded
+rv
+accountmanager
+nscomptr
+nsisupportsarray
+identities
+rv
+accountmanager
+getallidentities
+getteraddrefs
+identities
+nsfailed
+rv
+identities
+enumerateforwards
+checkifauthor
+cancelinfo
+cancelinfo
+from
+getnewsstringbyname
+canceldisallowed
+gettercopies
+alerttext
+rv
+dialog
+alert
+nsnull
+alerttext
+status
+mknntpcanceldisallowed
+mnextstate
+newserror
+clearflag
+nntppauseforread
+failure
+prtrue
+fail
+prlog
+nntp
+prlogalways
+cancelchk
+supported
+so
+post
+the
+cancel
+message
+as
+cancelinfo
+from
+nntplognote
+cancelchk
+supported
+don
+the
+us
+vs
+them
+test
+rv
+prefbranch
+getboolpref
+prefnewscancelconfirm
+requireconfirmationforcancel
+nsfailed
+rv
+requireconfirmationforcancel
+getnewsstringbyname
+cancelconfirm
+gettercopies
+confirmtext
+rv
+dialog
+confirm
+nsnull
+confirmtext
+confirmcancelresult
+confirmcancelresult
+confirmcancelresult
+status
+mknntpnotcancelled
+failure
+prtrue
+fail
+subject
+otherrandomheaders
+body
+status
+mkoutofmemory
+failure
+prtrue
+fail
+plstrcpy
+subject
+cancel
+plstrcat
+subject
+id
+plstrcpy
+otherrandomheaders
+control
+cancel
+plstrcat
+otherrandomheaders
+id
+plstrcat
+otherrandomheaders
+crlf
+distribution
+plstrcat
+otherrandomheaders
+distribution
+plstrcat
+otherrandomheaders
+distribution
+plstrcat
+otherrandomheaders
+crlf
+plstrcpy
+body
+this
+message
+was
+cancelled
+from
+within
+plstrcat
+body
+xpappcodename
+plstrcat
+body
+crlf
+ifdef
+uselibmsg
+fields
+msgcreatecompositionfields
+cancelinfo
+from
+newsgroups
+subject
+id
+otherrandomheaders
+newsurl
+endif
+mcancelstatus
+data
+data
+prsmprintf
+from
+crlf
+newsgroups
+crlf
+subject
+crlf
+references
+crlf
+crlf
+crlf
+crlf
+crlf
+cancelinfo
+from
+newsgroups
+subject
+id
+otherrandomheaders
+body
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+status
+senddata
+mailnewsurl
+data
+prfree
+data
+status
+nscautostring
+errortext
+errortext
+appendint
+status
+alerterror
+mktcpwriteerror
+errortext
+get
+failure
+prtrue
+fail
+setflag
+nntppauseforread
+mnextstate
+nntpresponse
+mnextstateafterresponse
+nntpsendpostdataresponse
+rv
+prefbranch
+getboolpref
+prefnewscancelalertonsuccess
+showalertaftercancel
+nsfailed
+rv
+showalertaftercancel
+getnewsstringbyname
+messagecancelled
+gettercopies
+alerttext
+rv
+dialog
+alert
+nsnull
+alerttext
+mrunningurl
+nsassertion
+nssucceeded
+rv
+mnewsfolder
+mkey
+nsmsgkeynone
+need
+more
+to
+remove
+message
+from
+the
+db
+mkey
+nsmsgkeynone
+mnewsfolder
+rv
+mnewsfolder
+removemessage
+mkey
+fail
+nsassertion
+mnewsfolder
+no
+news
+folder
+mnewsfolder
+failure
+rv
+mnewsfolder
+cancelfailed
+rv
+mnewsfolder
+cancelcomplete
+prfreeif
+id
+prfreeif
+cancelinfo
+oldfrom
+prfreeif
+cancelinfo
+from
+prfreeif
+subject
+prfreeif
+newsgroups
+prfreeif
+distribution
+prfreeif
+otherrandomheaders
+prfreeif
+body
+ifdef
+uselibmsg
+fields
+msgdestroycompositionfields
+fields
+endif
+status
+print
+nsnntpprotocol
+xpatsend
+status
+thisterm
+msearchdata
+thisterm
+plstrchr
+msearchdata
+command
+unescapedcommand
+endofterm
+nsmsgsacopy
+command
+thisterm
+endofterm
+plstrchr
+command
+endofterm
+endofterm
+nsmsgsacat
+command
+crlf
+unescapedcommand
+msgunescapesearchurl
+command
+nntplogwrite
+command
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+status
+senddata
+mailnewsurl
+unescapedcommand
+mnextstate
+nntpresponse
+mnextstateafterresponse
+nntpxpatresponse
+setflag
+nntppauseforread
+prfree
+command
+prfree
+unescapedcommand
+mnextstate
+newsdone
+status
+mkdataloaded
+status
+print
+nsnntpprotocol
+xpatresponse
+nsiinputstream
+inputstream
+pruint
+length
+pruint
+status
+mresponsecode
+mknntpresponsexpatok
+alerterror
+mknntperrormessage
+mresponsetext
+mnextstate
+nntperror
+clearflag
+nntppauseforread
+mknntpservererror
+prbool
+pauseformoredata
+prfalse
+line
+mlinestreambuffer
+readnextline
+inputstream
+status
+pauseformoredata
+nntplogread
+line
+pauseformoredata
+setflag
+nntppauseforread
+line
+line
+articlenumber
+prsscanf
+line
+ld
+articlenumber
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+nscomptr
+nsimsgsearchsession
+searchsession
+nscomptr
+nsimsgsearchadapter
+searchadapter
+mailnewsurl
+getsearchsession
+getteraddrefs
+searchsession
+searchsession
+searchsession
+getrunningadapter
+getteraddrefs
+searchadapter
+searchadapter
+searchadapter
+addhit
+pruint
+articlenumber
+nextterm
+plstrchr
+msearchdata
+nextterm
+msearchdata
+nextterm
+msearchdata
+nsnull
+mnextstate
+nntpxpatsend
+clearflag
+nntppauseforread
+prfreeif
+line
+prfreeif
+line
+print
+nsnntpprotocol
+listprettynames
+nsxpidlcstring
+groupname
+outputbuffer
+outputbuffersize
+print
+status
+nsresult
+rv
+mnewsfolder
+getasciiname
+gettercopies
+groupname
+prsnprintf
+outputbuffer
+outputbuffersize
+list
+prettynames
+crlf
+nssucceeded
+rv
+groupname
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+status
+senddata
+mailnewsurl
+outputbuffer
+nntplognote
+outputbuffer
+mnextstate
+nntpresponse
+mnextstateafterresponse
+nntplistprettynamesresponse
+status
+print
+nsnntpprotocol
+listprettynamesresponse
+nsiinputstream
+inputstream
+pruint
+length
+prettyname
+pruint
+status
+mresponsecode
+mknntpresponselistok
+mnextstate
+displaynewsgroups
+clearflag
+nntppauseforread
+prbool
+pauseformoredata
+prfalse
+line
+mlinestreambuffer
+readnextline
+inputstream
+status
+pauseformoredata
+nntplogread
+line
+pauseformoredata
+setflag
+nntppauseforread
+line
+line
+line
+netisspace
+line
+line
+prettyname
+line
+prettyname
+line
+line
+mnntpserver
+setprettynameforgroup
+line
+prettyname
+prlog
+nntp
+prlogalways
+adding
+pretty
+name
+prettyname
+mnextstate
+displaynewsgroups
+clearflag
+nntppauseforread
+prfreeif
+line
+prfreeif
+line
+print
+nsnntpprotocol
+listxactive
+nsxpidlcstring
+groupname
+nsresult
+rv
+rv
+mnewsfolder
+getasciiname
+gettercopies
+groupname
+nsfailed
+rv
+print
+status
+outputbuffer
+outputbuffersize
+prsnprintf
+outputbuffer
+outputbuffersize
+list
+xactive
+crlf
+groupname
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+status
+senddata
+mailnewsurl
+outputbuffer
+mnextstate
+nntpresponse
+mnextstateafterresponse
+nntplistxactiveresponse
+status
+print
+nsnntpprotocol
+listxactiveresponse
+nsiinputstream
+inputstream
+pruint
+length
+pruint
+status
+nsresult
+rv
+nsassertion
+mresponsecode
+mknntpresponselistok
+code
+listok
+mresponsecode
+mknntpresponselistok
+mnextstate
+displaynewsgroups
+clearflag
+nntppauseforread
+mkdataloaded
+prbool
+pauseformoredata
+prfalse
+line
+mlinestreambuffer
+readnextline
+inputstream
+status
+pauseformoredata
+nntplogread
+line
+pauseformoredata
+setflag
+nntppauseforread
+status
+ifdef
+unreadycode
+ce
+bytesreceived
+status
+fegraphprogress
+ce
+windowid
+ce
+urls
+ce
+bytesreceived
+status
+ce
+urls
+contentlength
+mbytesreceived
+status
+mbytesreceivedsincelaststatusupdate
+status
+endif
+line
+line
+line
+netisspace
+flags
+prsscanf
+mfirstpossiblearticle
+mlastpossiblearticle
+flags
+nsassertion
+mnntpserver
+no
+nntp
+incoming
+server
+mnntpserver
+rv
+mnntpserver
+addnewsgrouptolist
+line
+nsassertion
+nssucceeded
+rv
+failed
+to
+add
+to
+subscribe
+ds
+prlog
+nntp
+prlogalways
+got
+xactive
+of
+line
+flags
+prbool
+xactive
+prfalse
+rv
+mnntpserver
+queryextension
+xactive
+xactive
+mtypewanted
+newgroups
+nssucceeded
+rv
+xactive
+nscomptr
+nsimsgnewsfolder
+oldnewsfolder
+oldnewsfolder
+mnewsfolder
+nsxpidlcstring
+groupname
+rv
+mnntpserver
+getfirstgroupneedingextrainfo
+gettercopies
+groupname
+nsfailed
+rv
+rv
+mnntpserver
+findgroup
+groupname
+getteraddrefs
+mnewsfolder
+nsfailed
+rv
+oldnewsfolder
+mnewsfolder
+oldnewsfolder
+get
+mnewsfolder
+get
+prlog
+nntp
+prlogalways
+listing
+xactive
+groupname
+mnextstate
+nntplistxactive
+clearflag
+nntppauseforread
+prfreeif
+line
+mnewsfolder
+nsnull
+prbool
+listpname
+rv
+mnntpserver
+queryextension
+listpname
+listpname
+nssucceeded
+rv
+listpname
+mnextstate
+nntplistprettynames
+mnextstate
+displaynewsgroups
+clearflag
+nntppauseforread
+prfreeif
+line
+prfreeif
+line
+print
+nsnntpprotocol
+sendlistgroup
+nsresult
+rv
+outputbuffer
+outputbuffersize
+print
+status
+nsassertion
+mnewsfolder
+no
+newsfolder
+mnewsfolder
+nsxpidlcstring
+newsgroupname
+rv
+mnewsfolder
+getasciiname
+gettercopies
+newsgroupname
+nsensuresuccess
+rv
+rv
+prsnprintf
+outputbuffer
+outputbuffersize
+listgroup
+crlf
+newsgroupname
+get
+marticlelist
+docreateinstance
+nsnntparticlelistcontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+marticlelist
+initialize
+mnewsfolder
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+status
+senddata
+mailnewsurl
+outputbuffer
+mnextstate
+nntpresponse
+mnextstateafterresponse
+nntplistgroupresponse
+setflag
+nntppauseforread
+status
+print
+nsnntpprotocol
+sendlistgroupresponse
+nsiinputstream
+inputstream
+pruint
+length
+pruint
+status
+nsassertion
+mresponsecode
+mknntpresponsegroupselected
+code
+groupselected
+mresponsecode
+mknntpresponsegroupselected
+mnextstate
+newsdone
+clearflag
+nntppauseforread
+mkdataloaded
+prbool
+pauseformoredata
+prfalse
+line
+mlinestreambuffer
+readnextline
+inputstream
+status
+pauseformoredata
+pauseformoredata
+setflag
+nntppauseforread
+line
+nsresult
+rv
+line
+nsmsgkey
+foundid
+nsmsgkeynone
+prsscanf
+line
+ld
+foundid
+rv
+marticlelist
+addarticlekey
+foundid
+nsassertion
+nssucceeded
+rv
+add
+article
+key
+failed
+rv
+marticlelist
+finishaddingarticlekeys
+nsassertion
+nssucceeded
+rv
+finish
+adding
+article
+key
+failed
+marticlelist
+nsnull
+mnextstate
+newsdone
+clearflag
+nntppauseforread
+prfreeif
+line
+prfreeif
+line
+print
+nsnntpprotocol
+search
+nsassertion
+search
+implemented
+print
+nsnntpprotocol
+searchresponse
+mknntpresponsetype
+mresponsecode
+mknntpresponsetypeok
+mnextstate
+nntpsearchresults
+mnextstate
+newsdone
+clearflag
+nntppauseforread
+print
+nsnntpprotocol
+searchresults
+nsiinputstream
+inputstream
+pruint
+length
+pruint
+status
+prbool
+pauseformoredata
+prfalse
+line
+mlinestreambuffer
+readnextline
+inputstream
+status
+pauseformoredata
+pauseformoredata
+setflag
+nntppauseforread
+line
+status
+line
+ifdef
+unreadycode
+msgaddnewssearchhit
+ce
+windowid
+line
+endif
+mnextstate
+newsdone
+clearflag
+nntppauseforread
+prfreeif
+line
+status
+print
+nsnntpprotocol
+setupfortransfer
+mtypewanted
+newspost
+mnextstate
+nntpsendpostdata
+ifdef
+unreadycode
+netprogress
+ce
+windowid
+xpgetstring
+mkmsgdelivnews
+endif
+mtypewanted
+listwanted
+testflag
+nntpusefancynewsgroup
+mnextstate
+nntplistxactiveresponse
+mnextstate
+nntpreadlistbegin
+mtypewanted
+groupwanted
+mnextstate
+nntpxoverbegin
+mtypewanted
+newgroups
+mnextstate
+nntpnewgroupsbegin
+mtypewanted
+articlewanted
+mtypewanted
+cancelwanted
+mnextstate
+nntpbeginarticle
+mtypewanted
+searchwanted
+mnextstate
+nntpxpatsend
+mtypewanted
+prettynameswanted
+mnextstate
+nntplistprettynames
+ifdef
+unreadycode
+mtypewanted
+profilewanted
+plstrstr
+ce
+urls
+address
+profile
+new
+mnextstate
+nntpprofileadd
+mnextstate
+nntpprofiledelete
+endif
+nsassertion
+unexpected
+nsresult
+nsnntpprotocol
+processprotocolstate
+nsiuri
+url
+nsiinputstream
+inputstream
+pruint
+sourceoffset
+pruint
+length
+print
+status
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+nsok
+clearflag
+nntppauseforread
+testflag
+nntppauseforread
+prlog
+nntp
+prlogalways
+next
+state
+statelabels
+mnextstate
+mnextstate
+nntpresponse
+inputstream
+nsnull
+setflag
+nntppauseforread
+status
+newsresponse
+inputstream
+length
+nntploginresponse
+inputstream
+nsnull
+setflag
+nntppauseforread
+status
+loginresponse
+nntpsendmodereader
+status
+sendmodereader
+nntpsendmodereaderresponse
+inputstream
+nsnull
+setflag
+nntppauseforread
+status
+sendmodereaderresponse
+sendlistextensions
+status
+sendlistextensions
+sendlistextensionsresponse
+inputstream
+nsnull
+setflag
+nntppauseforread
+status
+sendlistextensionsresponse
+inputstream
+length
+sendlistsearches
+status
+sendlistsearches
+sendlistsearchesresponse
+inputstream
+nsnull
+setflag
+nntppauseforread
+status
+sendlistsearchesresponse
+inputstream
+length
+nntplistsearchheaders
+status
+sendlistsearchheaders
+nntplistsearchheadersresponse
+inputstream
+nsnull
+setflag
+nntppauseforread
+status
+sendlistsearchheadersresponse
+inputstream
+length
+nntpgetproperties
+status
+getproperties
+nntpgetpropertiesresponse
+inputstream
+nsnull
+setflag
+nntppauseforread
+status
+getpropertiesresponse
+inputstream
+length
+sendlistsubscriptions
+status
+sendlistsubscriptions
+sendlistsubscriptionsresponse
+inputstream
+nsnull
+setflag
+nntppauseforread
+status
+sendlistsubscriptionsresponse
+inputstream
+length
+sendfirstnntpcommand
+status
+sendfirstnntpcommand
+url
+sendfirstnntpcommandresponse
+inputstream
+nsnull
+setflag
+nntppauseforread
+status
+sendfirstnntpcommandresponse
+nntpsendgroupforarticle
+status
+sendgroupforarticle
+nntpsendgroupforarticleresponse
+inputstream
+nsnull
+setflag
+nntppauseforread
+status
+sendgroupforarticleresponse
+nntpsendarticlenumber
+status
+sendarticlenumber
+setupnewsstream
+status
+setupfortransfer
+nntpbeginauthorize
+status
+beginauthorization
+nntpauthorizeresponse
+inputstream
+nsnull
+setflag
+nntppauseforread
+status
+authorizationresponse
+nntppasswordresponse
+inputstream
+nsnull
+setflag
+nntppauseforread
+status
+passwordresponse
+nntpreadlistbegin
+status
+beginreadnewslist
+nntpreadlist
+status
+readnewslist
+inputstream
+length
+displaynewsgroups
+status
+displaynewsgroups
+nntpnewgroupsbegin
+status
+beginnewsgroups
+nntpnewgroups
+status
+processnewsgroups
+inputstream
+length
+nntpbeginarticle
+status
+beginarticle
+nntpreadarticle
+status
+readarticle
+inputstream
+length
+nntpxoverbegin
+status
+beginreadxover
+nntpfigurenextchunk
+status
+figurenextchunk
+nntpxoversend
+status
+xoversend
+nntpxover
+status
+readxover
+inputstream
+length
+nntpxoverresponse
+inputstream
+nsnull
+setflag
+nntppauseforread
+status
+readxoverresponse
+newsprocessxover
+newsprocessbodies
+ifdef
+unreadycode
+netprogress
+ce
+windowid
+xpgetstring
+xpprogresssortarticles
+endif
+status
+processxover
+nntpreadgroup
+status
+readnewsgroup
+nntpreadgroupresponse
+inputstream
+nsnull
+setflag
+nntppauseforread
+status
+readnewsgroupresponse
+nntpreadgroupbody
+status
+readnewsgroupresponse
+nntpsendpostdata
+status
+postdata
+nntpsendpostdataresponse
+inputstream
+nsnull
+setflag
+nntppauseforread
+status
+postdataresponse
+nntpcheckformessage
+status
+checkforarticle
+newsnewsrcpost
+ifdef
+unreadycode
+status
+netnewsrcprocesspost
+ce
+endif
+newsdisplaynewsrc
+status
+displaynewsrc
+newsdisplaynewsrcresponse
+inputstream
+nsnull
+setflag
+nntppauseforread
+status
+displaynewsrcresponse
+newsstartcancel
+status
+startcancel
+newsdocancel
+status
+docancel
+nntpxpatsend
+status
+xpatsend
+nntpxpatresponse
+inputstream
+nsnull
+setflag
+nntppauseforread
+status
+xpatresponse
+inputstream
+length
+nntpsearch
+status
+search
+nntpsearchresponse
+inputstream
+nsnull
+setflag
+nntppauseforread
+status
+searchresponse
+nntpsearchresults
+status
+searchresults
+inputstream
+length
+nntplistprettynames
+status
+listprettynames
+nntplistprettynamesresponse
+inputstream
+nsnull
+setflag
+nntppauseforread
+status
+listprettynamesresponse
+inputstream
+length
+nntplistxactive
+status
+listxactive
+nntplistxactiveresponse
+inputstream
+nsnull
+setflag
+nntppauseforread
+status
+listxactiveresponse
+inputstream
+length
+nntplistgroup
+status
+sendlistgroup
+nntplistgroupresponse
+inputstream
+nsnull
+setflag
+nntppauseforread
+status
+sendlistgroupresponse
+inputstream
+length
+newsdone
+mnextstate
+newsfree
+newspostdone
+nntplognote
+newspostdone
+mailnewsurl
+seturlstate
+prfalse
+nsok
+mnextstate
+newsfree
+newserror
+nntplognote
+newserror
+mresponsecode
+mknntpresponsearticlenotfound
+mresponsecode
+mknntpresponsearticlenonexist
+mailnewsurl
+seturlstate
+prfalse
+nsmsgnewsarticlenotfound
+mailnewsurl
+seturlstate
+prfalse
+nserrorfailure
+mnextstate
+newsfree
+nntperror
+closeconnection
+newsfree
+mlastactivetimestamp
+prnow
+cleanupafterrunningurl
+newsfinished
+nsok
+nserrorfailure
+status
+mnextstate
+newserror
+mnextstate
+nntperror
+mnextstate
+newsfree
+mnextstate
+nntperror
+clearflag
+nntppauseforread
+nsok
+nsimethodimp
+nsnntpprotocol
+closeconnection
+prlog
+nntp
+prlogalways
+closingconnection
+senddata
+nsnull
+nntpcmdquit
+cleanupnewsgrouplist
+mnntpserver
+mnntpserver
+removeconnection
+mnntpserver
+nsnull
+closesocket
+mnewsfolder
+nsnull
+marticlelist
+marticlelist
+finishaddingarticlekeys
+marticlelist
+nsnull
+mkey
+nsmsgkeynone
+nsok
+nsresult
+nsnntpprotocol
+cleanupnewsgrouplist
+nsresult
+rv
+mnewsgrouplist
+nsok
+print
+status
+rv
+mnewsgrouplist
+finishxoverline
+status
+mnewsgrouplist
+nsnull
+nsassertion
+nssucceeded
+rv
+finishxoverline
+failed
+rv
+nsresult
+nsnntpprotocol
+cleanupafterrunningurl
+nsresult
+rv
+nsok
+prlog
+nntp
+prlogalways
+cleanupafterrunningurl
+mchannellistener
+rv
+mchannellistener
+onstoprequest
+mchannelcontext
+nsok
+mloadgroup
+mloadgroup
+removerequest
+nsstaticcast
+nsirequest
+nsnull
+nsok
+cleanupnewsgrouplist
+mrunningurl
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+mailnewsurl
+seturlstate
+prfalse
+nsok
+mailnewsurl
+setmemcacheentry
+nsnull
+cleanup
+mdisplayinputstream
+nsnull
+mdisplayoutputstream
+nsnull
+mprogresseventsink
+nsnull
+setowner
+nsnull
+mchannelcontext
+nsnull
+mchannellistener
+nsnull
+mloadgroup
+nsnull
+mcallbacks
+nsnull
+setisbusy
+prfalse
+nsok
+nsresult
+nsnntpprotocol
+closesocket
+prlog
+nntp
+prlogalways
+closingsocket
+mnntpserver
+mnntpserver
+removeconnection
+mnntpserver
+nsnull
+cleanupafterrunningurl
+nsmsgprotocol
+closesocket
+nsnntpprotocol
+setprogressbarpercent
+pruint
+aprogress
+pruint
+aprogressmax
+mprogresseventsink
+mprogresseventsink
+onprogress
+mchannelcontext
+aprogress
+aprogressmax
+nsresult
+nsnntpprotocol
+setprogressstatus
+prunichar
+amessage
+nsresult
+rv
+nsok
+mprogresseventsink
+rv
+mprogresseventsink
+onstatus
+mchannelcontext
+nsok
+amessage
+rv
+nsimethodimp
+nsnntpprotocol
+getcontenttype
+nsacstring
+acontenttype
+mcontenttype
+isempty
+acontenttype
+mcontenttype
+nsok
+mtypewanted
+groupwanted
+acontenttype
+nsliteralcstring
+application
+newsgroup
+mtypewanted
+idswanted
+acontenttype
+nsliteralcstring
+application
+newsgroup
+listids
+acontenttype
+nsliteralcstring
+message
+rfc
+nsok
+nsresult
+nsnntpprotocol
+alerterror
+print
+errorcode
+text
+nsresult
+rv
+nsok
+mrunningurl
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+mrunningurl
+nscomptr
+nsiprompt
+dialog
+rv
+getpromptdialogfromurl
+msgurl
+getteraddrefs
+dialog
+nsensuresuccess
+rv
+rv
+nsautostring
+alerttext
+nsxpidlstring
+str
+rv
+getnewsstringbyid
+mknntperrormessage
+gettercopies
+str
+nsensuresuccess
+rv
+rv
+alerttext
+append
+str
+text
+alerttext
+append
+nsliteralstring
+get
+alerttext
+appendwithconversion
+text
+rv
+dialog
+alert
+nsnull
+alerttext
+get
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsnntpprotocol
+getcurrentfolder
+nsimsgfolder
+afolder
+nsresult
+rv
+nserrornullpointer
+nsensureargpointer
+afolder
+mnewsfolder
+rv
+mnewsfolder
+queryinterface
+nsgetiid
+nsimsgfolder
+afolder
+rv
\ No newline at end of file
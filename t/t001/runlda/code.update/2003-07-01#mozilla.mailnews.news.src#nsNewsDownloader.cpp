@@ -0,0 +1,944 @@
+msgcore
+nntpcore
+netcore
+nsxpidlstring
+nsimsgnewsfolder
+nsistringbundle
+nsnewsdownloader
+nsinntpservice
+nsmsgnewscid
+nsimsgsearchsession
+nsimsgsearchterm
+nsimsgsearchvaliditymanager
+nsrdfcid
+nsimsgaccountmanager
+nsmsgfolderflags
+nsirequestobserver
+nsresult
+nsnewsdownloader
+downloadarticles
+nsimsgwindow
+window
+nsimsgfolder
+folder
+nsmsgkeyarray
+pids
+pids
+nsnull
+mkeystodownload
+insertat
+pids
+mkeystodownload
+getsize
+mdownloadfromkeys
+prtrue
+mfolder
+folder
+mwindow
+window
+mnumwrote
+prbool
+headerstodownload
+getnexthdrtoretrieve
+headerstodownload
+downloadnext
+prtrue
+nserrorfailure
+nsimplisupports
+nsnewsdownloader
+nsiurllistener
+nsimsgsearchnotify
+nsnewsdownloader
+nsnewsdownloader
+nsimsgwindow
+window
+nsimsgdatabase
+msgdb
+nsiurllistener
+listener
+mnumwrote
+mdownloadfromkeys
+prfalse
+mnewsdb
+msgdb
+mabort
+prfalse
+mlistener
+listener
+mwindow
+window
+mwindow
+mwindow
+setstopped
+prfalse
+nsnewsdownloader
+nsnewsdownloader
+mlistener
+mlistener
+onstoprunningurl
+nsnull
+mstatus
+mnewsdb
+mnewsdb
+commit
+nsmsgdbcommittype
+klargecommit
+mnewsdb
+nsnull
+nsimethodimp
+nsnewsdownloader
+onstartrunningurl
+nsiuri
+url
+nsok
+nsimethodimp
+nsnewsdownloader
+onstoprunningurl
+nsiuri
+url
+nsresult
+exitcode
+prbool
+stopped
+prfalse
+mwindow
+mwindow
+getstopped
+stopped
+stopped
+exitcode
+nsbindingaborted
+nsresult
+rv
+exitcode
+nssucceeded
+exitcode
+exitcode
+nsmsgnewsarticlenotfound
+rv
+downloadnext
+prfalse
+rv
+nsresult
+nsnewsdownloader
+downloadnext
+prbool
+firsttimep
+nsresult
+rv
+firsttimep
+prbool
+moreheaders
+getnexthdrtoretrieve
+moreheaders
+mlistener
+mlistener
+onstoprunningurl
+nsnull
+nsok
+nsok
+startdownload
+mwroteanyp
+prfalse
+nscomptr
+nsinntpservice
+nntpservice
+dogetservice
+nsnntpservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nntpservice
+fetchmessage
+mfolder
+mkeytodownload
+mwindow
+nsnull
+nsnull
+prbool
+downloadnewsarticlestoofflinestore
+getnexthdrtoretrieve
+nsresult
+rv
+mdownloadfromkeys
+nsnewsdownloader
+getnexthdrtoretrieve
+mheaderenumerator
+nsnull
+rv
+mnewsdb
+enumeratemessages
+getteraddrefs
+mheaderenumerator
+prbool
+hasmore
+prfalse
+nssucceeded
+rv
+mheaderenumerator
+hasmoreelements
+hasmore
+hasmore
+nscomptr
+nsisupports
+supports
+rv
+mheaderenumerator
+getnext
+getteraddrefs
+supports
+mnewsheader
+doqueryinterface
+supports
+nsensuresuccess
+rv
+rv
+pruint
+hdrflags
+mnewsheader
+getflags
+hdrflags
+hdrflags
+msgflagmarked
+mnewsheader
+getmessagekey
+mkeytodownload
+mnewsheader
+nsnull
+hasmore
+nsnewsdownloader
+abort
+nsnewsdownloader
+complete
+prbool
+nsnewsdownloader
+getnexthdrtoretrieve
+nsresult
+rv
+mdownloadfromkeys
+mnumwrote
+print
+mkeystodownload
+getsize
+prfalse
+mkeytodownload
+mkeystodownload
+getat
+mnumwrote
+ifdef
+debugbienvenu
+endif
+nscomptr
+nsimsgnewsfolder
+newsfolder
+doqueryinterface
+mfolder
+nscomptr
+nsistringbundleservice
+bundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsistringbundle
+bundle
+rv
+bundleservice
+createbundle
+newsmsgsurl
+getteraddrefs
+bundle
+nsensuresuccess
+rv
+rv
+nsautostring
+firststr
+firststr
+appendint
+mnumwrote
+nsautostring
+totalstr
+totalstr
+appendint
+mkeystodownload
+getsize
+nsxpidlstring
+prettiestname
+nsxpidlstring
+statusstring
+mfolder
+getprettiestname
+gettercopies
+prettiestname
+prunichar
+formatstrings
+firststr
+get
+totalstr
+get
+prunichar
+prettiestname
+rv
+bundle
+formatstringfromname
+nsliteralstring
+downloadingarticlesforoffline
+get
+formatstrings
+gettercopies
+statusstring
+nsensuresuccess
+rv
+rv
+print
+percent
+percent
+mnumwrote
+print
+mkeystodownload
+getsize
+showprogress
+statusstring
+percent
+prtrue
+nsassertion
+prfalse
+shouldn
+get
+here
+we
+re
+downloading
+from
+keys
+prfalse
+nsresult
+nsnewsdownloader
+showprogress
+prunichar
+progressstring
+print
+percent
+mstatusfeedback
+mwindow
+mwindow
+getstatusfeedback
+getteraddrefs
+mstatusfeedback
+mstatusfeedback
+mstatusfeedback
+showstatusstring
+progressstring
+mstatusfeedback
+showprogress
+percent
+nsok
+nsimethodimp
+downloadnewsarticlestoofflinestore
+onstartrunningurl
+nsiuri
+url
+nsok
+nsimethodimp
+downloadnewsarticlestoofflinestore
+onstoprunningurl
+nsiuri
+url
+nsresult
+exitcode
+mstatus
+exitcode
+mnewsheader
+nsnull
+ifdef
+debugbienvenu
+endif
+mnewsdb
+nsmsgkey
+msgkey
+mnewsheader
+getmessagekey
+msgkey
+mnewsdb
+markmarked
+msgkey
+prfalse
+nsnull
+mnewsheader
+nsnull
+nsnewsdownloader
+onstoprunningurl
+url
+exitcode
+downloadnewsarticlestoofflinestore
+finishdownload
+nsimethodimp
+nsnewsdownloader
+onsearchhit
+nsimsgdbhdr
+header
+nsimsgfolder
+folder
+nsensurearg
+header
+pruint
+msgflags
+header
+getflags
+msgflags
+msgflags
+msgflagoffline
+nsmsgkey
+key
+header
+getmessagekey
+key
+mkeystodownload
+add
+key
+ifdef
+haveport
+statustemplate
+xpgetstring
+mkmsgarticlestoretrieve
+statusstring
+prsmprintf
+statustemplate
+newsarticlestate
+mkeystodownload
+getsize
+statusstring
+feprogress
+newsarticlestate
+mcontext
+statusstring
+xpfree
+statusstring
+endif
+nsok
+nsimethodimp
+nsnewsdownloader
+onsearchdone
+nsresult
+status
+mkeystodownload
+getsize
+mlistener
+mlistener
+onstoprunningurl
+nsnull
+nsok
+nsresult
+rv
+downloadarticles
+mwindow
+mfolder
+nsnull
+nsfailed
+rv
+mlistener
+mlistener
+onstoprunningurl
+nsnull
+rv
+rv
+nsimethodimp
+nsnewsdownloader
+onnewsearch
+nsok
+downloadnewsarticlestoofflinestore
+startdownload
+mnewsdb
+getmsghdrforkey
+mkeytodownload
+getteraddrefs
+mnewsheader
+downloadnewsarticlestoofflinestore
+downloadnewsarticlestoofflinestore
+nsimsgwindow
+window
+nsimsgdatabase
+db
+nsiurllistener
+listener
+nsnewsdownloader
+window
+db
+listener
+mnewsdb
+db
+downloadnewsarticlestoofflinestore
+downloadnewsarticlestoofflinestore
+downloadmatchingnewsarticlestonewsdb
+downloadmatchingnewsarticlestonewsdb
+nsimsgwindow
+window
+nsimsgfolder
+folder
+nsimsgdatabase
+newsdb
+nsiurllistener
+listener
+downloadnewsarticlestoofflinestore
+window
+newsdb
+listener
+mwindow
+window
+mfolder
+folder
+mnewsdb
+newsdb
+mdownloadfromkeys
+prtrue
+downloadmatchingnewsarticlestonewsdb
+downloadmatchingnewsarticlestonewsdb
+nsdefinecid
+krdfservicecid
+nsrdfservicecid
+nsimplisupports
+nsmsgdownloadallnewsgroups
+nsiurllistener
+nsmsgdownloadallnewsgroups
+nsmsgdownloadallnewsgroups
+nsimsgwindow
+window
+nsiurllistener
+listener
+mwindow
+window
+mlistener
+listener
+mdownloaderforgroup
+downloadmatchingnewsarticlestonewsdb
+window
+nsnull
+nsnull
+nsifaddref
+mdownloaderforgroup
+mdownloadedhdrsforcurgroup
+prfalse
+nsmsgdownloadallnewsgroups
+nsmsgdownloadallnewsgroups
+nsifrelease
+mdownloaderforgroup
+nsimethodimp
+nsmsgdownloadallnewsgroups
+onstartrunningurl
+nsiuri
+url
+nsok
+nsimethodimp
+nsmsgdownloadallnewsgroups
+onstoprunningurl
+nsiuri
+url
+nsresult
+exitcode
+nsresult
+rv
+exitcode
+nssucceeded
+exitcode
+exitcode
+nsmsgnewsarticlenotfound
+mdownloadedhdrsforcurgroup
+prbool
+savingarticlesoffline
+prfalse
+nscomptr
+nsimsgnewsfolder
+newsfolder
+doqueryinterface
+mcurrentfolder
+newsfolder
+newsfolder
+getsavearticleoffline
+savingarticlesoffline
+mdownloadedhdrsforcurgroup
+prfalse
+savingarticlesoffline
+rv
+processnextgroup
+rv
+downloadmsgsforcurrentgroup
+rv
+processnextgroup
+mlistener
+mlistener
+onstoprunningurl
+url
+exitcode
+rv
+nsresult
+nsmsgdownloadallnewsgroups
+advancetonextserver
+prbool
+done
+nsresult
+rv
+nsensurearg
+done
+done
+prtrue
+mallservers
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsassertion
+accountmanager
+nssucceeded
+rv
+couldn
+get
+account
+mgr
+accountmanager
+nsfailed
+rv
+rv
+rv
+accountmanager
+getallservers
+getteraddrefs
+mallservers
+nsensuresuccess
+rv
+rv
+pruint
+serverindex
+mcurrentserver
+mallservers
+indexof
+mcurrentserver
+mcurrentserver
+nsnull
+pruint
+numservers
+mallservers
+count
+numservers
+nscomptr
+nsifolder
+rootfolder
+serverindex
+numservers
+nscomptr
+nsimsgincomingserver
+server
+doqueryelementat
+mallservers
+serverindex
+serverindex
+nscomptr
+nsinntpincomingserver
+newsserver
+doqueryinterface
+server
+newsserver
+server
+mcurrentserver
+server
+server
+getrootfolder
+getteraddrefs
+rootfolder
+rootfolder
+nsnewisupportsarray
+getteraddrefs
+mallfolders
+rv
+rootfolder
+listdescendents
+mallfolders
+nssucceeded
+rv
+mallfolders
+enumerate
+getteraddrefs
+mserverenumerator
+nssucceeded
+rv
+mserverenumerator
+rv
+mserverenumerator
+first
+nssucceeded
+rv
+done
+prfalse
+rv
+nsresult
+nsmsgdownloadallnewsgroups
+advancetonextgroup
+prbool
+done
+nsresult
+rv
+nsensurearg
+done
+done
+prtrue
+mcurrentfolder
+nscomptr
+nsimsgnewsfolder
+newsfolder
+doqueryinterface
+mcurrentfolder
+newsfolder
+newsfolder
+setsavearticleoffline
+prfalse
+mcurrentfolder
+nsnull
+done
+prfalse
+mcurrentserver
+rv
+advancetonextserver
+done
+rv
+mserverenumerator
+next
+nsfailed
+rv
+rv
+advancetonextserver
+done
+nssucceeded
+rv
+done
+mserverenumerator
+nscomptr
+nsisupports
+supports
+rv
+mserverenumerator
+currentitem
+getteraddrefs
+supports
+mcurrentfolder
+doqueryinterface
+supports
+done
+prfalse
+rv
+nsresult
+downloadmatchingnewsarticlestonewsdb
+runsearch
+nsimsgfolder
+folder
+nsimsgdatabase
+newsdb
+nsimsgsearchsession
+searchsession
+mfolder
+folder
+mnewsdb
+newsdb
+msearchsession
+searchsession
+mkeystodownload
+removeall
+nsresult
+rv
+nsensurearg
+searchsession
+nsensurearg
+folder
+searchsession
+registerlistener
+rv
+searchsession
+addscopeterm
+nsmsgsearchscope
+localnews
+folder
+searchsession
+search
+mwindow
+nsresult
+nsmsgdownloadallnewsgroups
+processnextgroup
+nsresult
+rv
+nsok
+prbool
+done
+prfalse
+nssucceeded
+rv
+done
+rv
+advancetonextgroup
+done
+mcurrentfolder
+pruint
+folderflags
+mcurrentfolder
+getflags
+folderflags
+folderflags
+msgfolderflagoffline
+nsfailed
+rv
+done
+mlistener
+mlistener
+onstoprunningurl
+nsnull
+nsok
+mdownloadedhdrsforcurgroup
+prtrue
+mcurrentfolder
+getnewmessages
+mwindow
+nsresult
+nsmsgdownloadallnewsgroups
+downloadmsgsforcurrentgroup
+nscomptr
+nsimsgdatabase
+db
+nscomptr
+nsisupportsarray
+termlist
+nscomptr
+nsimsgdownloadsettings
+downloadsettings
+mcurrentfolder
+getmsgdatabase
+mwindow
+getteraddrefs
+db
+nsresult
+rv
+mcurrentfolder
+getdownloadsettings
+getteraddrefs
+downloadsettings
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgnewsfolder
+newsfolder
+doqueryinterface
+mcurrentfolder
+newsfolder
+newsfolder
+setsavearticleoffline
+prtrue
+mtermlist
+rv
+nsnewisupportsarray
+getteraddrefs
+mtermlist
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgsearchsession
+searchsession
+docreateinstance
+nsmsgsearchsessioncontractid
+rv
+nsensuresuccess
+rv
+rv
+prbool
+downloadbydate
+downloadunreadonly
+pruint
+agelimitofmsgstodownload
+downloadsettings
+getdownloadbydate
+downloadbydate
+downloadsettings
+getdownloadunreadonly
+downloadunreadonly
+downloadsettings
+getagelimitofmsgstodownload
+agelimitofmsgstodownload
+nscomptr
+nsimsgsearchterm
+term
+nscomptr
+nsimsgsearchvalue
+value
+rv
+searchsession
+createterm
+getteraddrefs
+term
+nsensuresuccess
+rv
+rv
+term
+getvalue
+getteraddrefs
+value
+downloadunreadonly
+value
+setattrib
+nsmsgsearchattrib
+msgstatus
+value
+setstatus
+msgflagread
+searchsession
+addsearchterm
+nsmsgsearchattrib
+msgstatus
+nsmsgsearchop
+isnt
+value
+prtrue
+nsnull
+downloadbydate
+value
+setattrib
+nsmsgsearchattrib
+ageindays
+value
+setage
+agelimitofmsgstodownload
+searchsession
+addsearchterm
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+islessthan
+value
+nsmsgsearchbooleanop
+booleanand
+nsnull
+value
+setattrib
+nsmsgsearchattrib
+msgstatus
+value
+setstatus
+msgflagoffline
+searchsession
+addsearchterm
+nsmsgsearchattrib
+msgstatus
+nsmsgsearchop
+isnt
+value
+nsmsgsearchbooleanop
+booleanand
+nsnull
+mdownloaderforgroup
+runsearch
+mcurrentfolder
+db
+searchsession
+rv
\ No newline at end of file
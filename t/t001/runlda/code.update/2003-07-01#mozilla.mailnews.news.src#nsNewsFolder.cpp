@@ -0,0 +1,2858 @@
+nsiprefbranch
+nsiprefservice
+prlog
+msgcore
+nntpcore
+nsnewsfolder
+nsmsgfolderflags
+prprf
+prsystem
+nsisupportsarray
+nsiservicemanager
+nsienumerator
+nsinntpservice
+nsifolderlistener
+nscomptr
+nsirdfservice
+nsirdfdatasource
+nsrdfcid
+nsfilestream
+nsmsgdbcid
+nsmsgnewscid
+nsmsgutils
+nsnewsutils
+nscomptr
+nsimsgmailsession
+nsimsgincomingserver
+nsinntpincomingserver
+nsinewsdatabase
+nsmsgbasecid
+nsimsgwindow
+nsidocshell
+nsiwebshell
+nsiprompt
+nsiwindowwatcher
+nsxpidlstring
+nsiobserverservice
+nsnetutil
+nsiauthprompt
+nsiurl
+nsnetcid
+nsinntpurl
+nsnewssummaryspec
+nsiinterfacerequestor
+nsiinterfacerequestorutils
+nsreadableutils
+nsnewsdownloader
+nsistringbundle
+nsescape
+nsdefineiid
+kisupportsiid
+nsisupportsiid
+nsdefinecid
+krdfservicecid
+nsrdfservicecid
+nsdefinecid
+kcnewsdb
+nsnewsdbcid
+define
+newsrcfilebuffersize
+define
+newsscheme
+news
+define
+snewsscheme
+snews
+nsmsgnewsfolder
+nsmsgnewsfolder
+nsmsglinebuffer
+nsnull
+prfalse
+mexpungedbytes
+mgettingnews
+prfalse
+minitialized
+prfalse
+moptionlines
+munsubscribednewsgrouplines
+mdownloadmessageforofflineuse
+prfalse
+mreadset
+nsnull
+mgroupusername
+nsnull
+mgrouppassword
+nsnull
+masciiname
+nsnull
+mozcountctor
+nsnewsfolder
+plstrcmp
+msglinebreak
+crlf
+setlookingforcrlf
+prfalse
+nsmsgnewsfolder
+nsmsgnewsfolder
+mozcountdtor
+nsnewsfolder
+mreadset
+prfreeif
+mgroupusername
+prfreeif
+mgrouppassword
+prfreeif
+masciiname
+nsimpladdrefinherited
+nsmsgnewsfolder
+nsmsgdbfolder
+nsimplreleaseinherited
+nsmsgnewsfolder
+nsmsgdbfolder
+nsimethodimp
+nsmsgnewsfolder
+queryinterface
+refnsiid
+aiid
+ainstanceptr
+ainstanceptr
+nserrornullpointer
+ainstanceptr
+nsnull
+aiid
+equals
+nsgetiid
+nsimsgnewsfolder
+ainstanceptr
+nsstaticcast
+nsimsgnewsfolder
+ainstanceptr
+addref
+nsok
+nsmsgdbfolder
+queryinterface
+aiid
+ainstanceptr
+nsresult
+nsmsgnewsfolder
+createsubfolders
+nsfilespec
+path
+nsresult
+rv
+nsok
+prbool
+isnewsserver
+prfalse
+rv
+getisserver
+isnewsserver
+nsfailed
+rv
+rv
+isnewsserver
+nscomptr
+nsinntpincomingserver
+nntpserver
+rv
+getnntpserver
+getteraddrefs
+nntpserver
+nsfailed
+rv
+rv
+rv
+nntpserver
+getnewsrcfilepath
+getteraddrefs
+mnewsrcfilepath
+nsfailed
+rv
+rv
+rv
+loadnewsrcfileandcreatenewsgroups
+nsfailed
+rv
+rv
+rv
+nsok
+rv
+nsimethodimp
+nsmsgnewsfolder
+addnewsgroup
+name
+setstr
+nsimsgfolder
+child
+nsresult
+rv
+nsok
+nsensureargpointer
+child
+nsensureargpointer
+setstr
+nsensureargpointer
+name
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+krdfservicecid
+rv
+nsfailed
+rv
+rv
+rdf
+nserrorfailure
+nscomptr
+nsinntpincomingserver
+nntpserver
+rv
+getnntpserver
+getteraddrefs
+nntpserver
+nsfailed
+rv
+rv
+nscautostring
+uri
+muri
+uri
+append
+nsautostring
+newsgroupname
+newsgroupname
+assignwithconversion
+name
+nsxpidlcstring
+escapedname
+rv
+nsmsgescapeencodeurlpath
+newsgroupname
+get
+gettercopies
+escapedname
+nsfailed
+rv
+rv
+rv
+nntpserver
+addnewsgroup
+escapedname
+get
+nsfailed
+rv
+rv
+uri
+append
+escapedname
+get
+nscomptr
+nsirdfresource
+res
+rv
+rdf
+getresource
+uri
+getteraddrefs
+res
+nsfailed
+rv
+rv
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+res
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsimsgnewsfolder
+newsfolder
+doqueryinterface
+res
+rv
+nsfailed
+rv
+rv
+rv
+newsfolder
+setreadsetfromstr
+setstr
+rv
+folder
+setparent
+nsensuresuccess
+rv
+rv
+rv
+folder
+setname
+newsgroupname
+get
+nsensuresuccess
+rv
+rv
+rv
+folder
+setflag
+msgfolderflagnewsgroup
+nsfailed
+rv
+rv
+pruint
+numexistinggroups
+rv
+count
+numexistinggroups
+nsensuresuccess
+rv
+rv
+rv
+folder
+setsortorder
+numexistinggroups
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupports
+foldersupports
+doqueryinterface
+folder
+foldersupports
+msubfolders
+appendelement
+foldersupports
+child
+folder
+folder
+setparent
+nsaddref
+child
+rv
+nsresult
+nsmsgnewsfolder
+parsefolder
+nsfilespec
+path
+nsassertion
+parsefolder
+implemented
+nserrornotimplemented
+nsimethodimp
+nsmsgnewsfolder
+enumerate
+nsienumerator
+result
+nsresult
+rv
+nsok
+nsienumerator
+folders
+nsienumerator
+messages
+rv
+getsubfolders
+folders
+nsfailed
+rv
+rv
+rv
+getmessages
+nsnull
+messages
+nsfailed
+rv
+rv
+nsnewconjoiningenumerator
+folders
+messages
+nsibidirectionalenumerator
+result
+endif
+nsassertion
+prfalse
+obsolete
+right
+nserrorfailure
+nsresult
+nsmsgnewsfolder
+adddirectoryseparator
+nsfilespec
+path
+nsresult
+rv
+nsok
+plstrcmp
+muri
+knewsrooturi
+nsautostring
+sep
+rv
+nsgetnewsfolderseparator
+sep
+rv
+nsok
+endif
+nsfailed
+rv
+rv
+nsautostring
+str
+str
+assignwithconversion
+nsstaticcast
+nsfilepath
+path
+str
+sep
+path
+nsfilepath
+str
+rv
+nsimethodimp
+nsmsgnewsfolder
+getsubfolders
+nsienumerator
+result
+nsresult
+rv
+minitialized
+minitialized
+prtrue
+nscomptr
+nsifilespec
+pathspec
+rv
+getpath
+getteraddrefs
+pathspec
+nsfailed
+rv
+rv
+nsfilespec
+path
+rv
+pathspec
+getfilespec
+path
+nsfailed
+rv
+rv
+rv
+createsubfolders
+path
+nsfailed
+rv
+rv
+updatesummarytotals
+prfalse
+rv
+msubfolders
+enumerate
+result
+rv
+nsimethodimp
+nsmsgnewsfolder
+addunique
+nsisupports
+element
+nsassertion
+addunique
+implemented
+nserrornotimplemented
+nsimethodimp
+nsmsgnewsfolder
+replaceelement
+nsisupports
+element
+nsisupports
+newelement
+nsassertion
+replaceelement
+implemented
+nserrornotimplemented
+nsresult
+nsmsgnewsfolder
+getdatabase
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+mdatabase
+nscomptr
+nsifilespec
+pathspec
+rv
+getpath
+getteraddrefs
+pathspec
+nsfailed
+rv
+rv
+nscomptr
+nsimsgdatabase
+newsdbfactory
+docreateinstance
+kcnewsdb
+rv
+nsensuresuccess
+rv
+rv
+nsresult
+folderopen
+newsdbfactory
+openfolderdb
+prtrue
+prfalse
+getteraddrefs
+mdatabase
+folderopen
+nsmsgerrorfoldersummarymissing
+folderopen
+nsmsgerrorfoldersummaryoutofdate
+folderopen
+newsdbfactory
+openfolderdb
+prtrue
+prtrue
+getteraddrefs
+mdatabase
+nsfailed
+folderopen
+folderopen
+maddlistener
+rv
+mdatabase
+addlistener
+nscomptr
+nsinewsdatabase
+db
+doqueryinterface
+mdatabase
+rv
+nsfailed
+rv
+rv
+rv
+db
+setreadset
+mreadset
+nsfailed
+rv
+rv
+rv
+updatesummarytotals
+prtrue
+nsfailed
+rv
+rv
+nsok
+nsimethodimp
+nsmsgnewsfolder
+updatefolder
+nsimsgwindow
+awindow
+nsresult
+rv
+getdatabase
+awindow
+nssucceeded
+rv
+mdatabase
+nscomptr
+nsimsgretentionsettings
+retentionsettings
+nsresult
+rv
+getretentionsettings
+getteraddrefs
+retentionsettings
+nssucceeded
+rv
+rv
+mdatabase
+applyretentionsettings
+retentionsettings
+rv
+autocompact
+awindow
+nsensuresuccess
+rv
+rv
+rv
+getnewmessages
+awindow
+nsnull
+rv
+nsmsgerroroffline
+rv
+nsok
+notifyfolderevent
+mfolderloadedatom
+rv
+nsimethodimp
+nsmsgnewsfolder
+getcansubscribe
+prbool
+aresult
+nsensureargpointer
+aresult
+aresult
+prfalse
+prbool
+isnewsserver
+prfalse
+nsresult
+rv
+getisserver
+isnewsserver
+nsfailed
+rv
+rv
+aresult
+isnewsserver
+nsok
+nsimethodimp
+nsmsgnewsfolder
+getcanfilemessages
+prbool
+aresult
+nsensureargpointer
+aresult
+aresult
+prfalse
+nsok
+nsimethodimp
+nsmsgnewsfolder
+getcandeletemessages
+prbool
+acandeletemessages
+nsensureargpointer
+acandeletemessages
+acandeletemessages
+prfalse
+nsok
+nsimethodimp
+nsmsgnewsfolder
+getcancreatesubfolders
+prbool
+aresult
+nsensureargpointer
+aresult
+aresult
+prfalse
+nsok
+nsimethodimp
+nsmsgnewsfolder
+getcanrename
+prbool
+aresult
+nsensureargpointer
+aresult
+aresult
+prfalse
+nsok
+nsimethodimp
+nsmsgnewsfolder
+getcancompact
+prbool
+aresult
+nsensureargpointer
+aresult
+aresult
+prfalse
+nsok
+nsimethodimp
+nsmsgnewsfolder
+getmessages
+nsimsgwindow
+amsgwindow
+nsisimpleenumerator
+result
+nsresult
+rv
+nsok
+rv
+getdatabase
+amsgwindow
+result
+nsnull
+nssucceeded
+rv
+rv
+mdatabase
+enumeratemessages
+result
+rv
+nsimethodimp
+nsmsgnewsfolder
+getfolderurl
+url
+nsensureargpointer
+url
+nsxpidlcstring
+hostname
+nsresult
+rv
+gethostname
+gettercopies
+hostname
+nsxpidlcstring
+groupname
+rv
+getasciiname
+gettercopies
+groupname
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserver
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+print
+port
+prbool
+issecure
+prfalse
+rv
+server
+getissecure
+issecure
+nsensuresuccess
+rv
+rv
+rv
+server
+getport
+port
+nsensuresuccess
+rv
+rv
+newsscheme
+issecure
+snewsscheme
+newsscheme
+url
+prsmprintf
+ld
+newsscheme
+hostname
+get
+port
+groupname
+get
+nsok
+nsimethodimp
+nsmsgnewsfolder
+setnewsrchaschanged
+prbool
+newsrchaschanged
+nsresult
+rv
+nscomptr
+nsinntpincomingserver
+nntpserver
+rv
+getnntpserver
+getteraddrefs
+nntpserver
+nsfailed
+rv
+rv
+nntpserver
+setnewsrchaschanged
+newsrchaschanged
+nsimethodimp
+nsmsgnewsfolder
+createsubfolder
+prunichar
+uninewsgroupname
+nsimsgwindow
+msgwindow
+nsresult
+rv
+nsok
+nsensureargpointer
+uninewsgroupname
+uninewsgroupname
+nserrorfailure
+nscautostring
+newsgroupname
+newsgroupname
+assignwithconversion
+uninewsgroupname
+nsfilespec
+path
+nscomptr
+nsifilespec
+pathspec
+rv
+getpath
+getteraddrefs
+pathspec
+nsfailed
+rv
+rv
+rv
+pathspec
+getfilespec
+path
+nscomptr
+nsimsgfolder
+child
+nscomptr
+nsimsgdatabase
+newsdbfactory
+nscomptr
+nsimsgdatabase
+newsdb
+nscautostring
+hashedname
+newsgroupname
+rv
+nsmsghashifnecessary
+hashedname
+path
+hashedname
+get
+rv
+addnewsgroup
+newsgroupname
+get
+getteraddrefs
+child
+nssucceeded
+rv
+setnewsrchaschanged
+prtrue
+nssucceeded
+rv
+child
+nscomptr
+nsisupports
+childsupports
+doqueryinterface
+child
+nscomptr
+nsisupports
+foldersupports
+rv
+queryinterface
+nsgetiid
+nsisupports
+getteraddrefs
+foldersupports
+childsupports
+nssucceeded
+rv
+notifyitemadded
+foldersupports
+childsupports
+folderview
+rv
+nsimethodimp
+nsmsgnewsfolder
+delete
+nsresult
+rv
+getdatabase
+nsnull
+nssucceeded
+rv
+mdatabase
+forceclosed
+mdatabase
+nsnull
+nscomptr
+nsifilespec
+pathspec
+rv
+getpath
+getteraddrefs
+pathspec
+nsfailed
+rv
+rv
+nsfilespec
+path
+rv
+pathspec
+getfilespec
+path
+nsfailed
+rv
+rv
+path
+exists
+path
+delete
+prfalse
+nsnewssummaryspec
+summaryspec
+path
+summaryspec
+delete
+prfalse
+nscomptr
+nsinntpincomingserver
+nntpserver
+rv
+getnntpserver
+getteraddrefs
+nntpserver
+nsfailed
+rv
+rv
+nsxpidlstring
+name
+rv
+getname
+gettercopies
+name
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+escapedname
+rv
+nsmsgescapeencodeurlpath
+name
+get
+gettercopies
+escapedname
+nsensuresuccess
+rv
+rv
+rv
+nntpserver
+removenewsgroup
+escapedname
+get
+nsensuresuccess
+rv
+rv
+rv
+setnewsrchaschanged
+prtrue
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsmsgnewsfolder
+rename
+prunichar
+newname
+nsimsgwindow
+msgwindow
+nsassertion
+rename
+implemented
+nserrornotimplemented
+nsimethodimp
+nsmsgnewsfolder
+getabbreviatedname
+prunichar
+aabbreviatedname
+nsresult
+rv
+nsok
+aabbreviatedname
+nserrornullpointer
+rv
+nsmsgfolder
+getprettyname
+aabbreviatedname
+nsfailed
+rv
+rv
+prbool
+isnewsserver
+prfalse
+rv
+getisserver
+isnewsserver
+nsfailed
+rv
+rv
+isnewsserver
+nscomptr
+nsinntpincomingserver
+nntpserver
+rv
+getnntpserver
+getteraddrefs
+nntpserver
+nsfailed
+rv
+rv
+prbool
+abbreviate
+prtrue
+rv
+nntpserver
+getabbreviate
+abbreviate
+nsfailed
+rv
+rv
+abbreviate
+rv
+abbreviateprettyname
+aabbreviatedname
+rv
+nsresult
+nsmsgnewsfolder
+abbreviateprettyname
+prunichar
+prettyname
+print
+fullwords
+prettyname
+nserrornullpointer
+nsautostring
+name
+prettyname
+print
+totalwords
+print
+pos
+pos
+name
+findchar
+pos
+pos
+totalwords
+totalwords
+pos
+print
+abbrevnum
+totalwords
+fullwords
+abbrevnum
+nsok
+nsautostring
+out
+out
+name
+print
+length
+name
+length
+print
+newword
+fullwords
+print
+length
+newword
+name
+fullwords
+fullwords
+abbrevnum
+newword
+newword
+newword
+newword
+newword
+out
+name
+prettyname
+nserrornullpointer
+prfreeif
+prettyname
+prettyname
+tonewunicode
+out
+prettyname
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgnewsfolder
+getdbfolderinfoanddb
+nsidbfolderinfo
+folderinfo
+nsimsgdatabase
+db
+nsresult
+openerr
+db
+folderinfo
+nserrornullpointer
+openerr
+getdatabase
+nsnull
+nsifaddref
+db
+mdatabase
+nssucceeded
+openerr
+db
+openerr
+db
+getdbfolderinfo
+folderinfo
+openerr
+nsimethodimp
+nsmsgnewsfolder
+updatesummaryfromnntpinfo
+print
+oldest
+print
+youngest
+print
+total
+nsresult
+rv
+nsok
+prbool
+newsrchaschanged
+prfalse
+print
+oldunreadmessages
+mnumunreadmessages
+print
+oldtotalmessages
+mnumtotalmessages
+setstr
+nsnull
+oldest
+nsxpidlcstring
+oldset
+mreadset
+output
+gettercopies
+oldset
+mreadset
+addrange
+oldest
+rv
+mreadset
+output
+setstr
+setstr
+nscrt
+strcmp
+setstr
+oldset
+newsrchaschanged
+prtrue
+youngest
+youngest
+print
+unread
+mreadset
+countmissinginrange
+oldest
+youngest
+nsassertion
+unread
+countmissinginrange
+reported
+unread
+unread
+unread
+unread
+total
+unread
+total
+print
+deltaindb
+mnumtotalmessages
+mnumunreadmessages
+deltaindb
+unread
+deltaindb
+mnumunreadmessages
+unread
+mnumtotalmessages
+total
+mnntphighwater
+youngest
+mnntptotalarticles
+total
+endif
+oldtotalmessages
+mnumtotalmessages
+notifyintpropertychanged
+ktotalmessagesatom
+oldtotalmessages
+mnumtotalmessages
+oldunreadmessages
+mnumunreadmessages
+notifyintpropertychanged
+ktotalunreadmessagesatom
+oldunreadmessages
+mnumunreadmessages
+nscrt
+free
+setstr
+setstr
+nsnull
+rv
+nsimethodimp
+nsmsgnewsfolder
+updatesummarytotals
+prbool
+force
+mnotifycountchanges
+nsok
+print
+oldunreadmessages
+mnumunreadmessages
+print
+oldtotalmessages
+mnumtotalmessages
+nsresult
+ret
+readdbfolderinfo
+force
+nssucceeded
+ret
+oldtotalmessages
+mnumtotalmessages
+notifyintpropertychanged
+ktotalmessagesatom
+oldtotalmessages
+mnumtotalmessages
+oldunreadmessages
+mnumunreadmessages
+notifyintpropertychanged
+ktotalunreadmessagesatom
+oldunreadmessages
+mnumunreadmessages
+flushtofoldercache
+ret
+nsimethodimp
+nsmsgnewsfolder
+getexpungedbytescount
+pruint
+count
+count
+nserrornullpointer
+count
+mexpungedbytes
+nsok
+nsimethodimp
+nsmsgnewsfolder
+getdeletable
+prbool
+deletable
+nsassertion
+getdeletable
+implemented
+nserrornotimplemented
+nsimethodimp
+nsmsgnewsfolder
+getrequirescleanup
+prbool
+requirescleanup
+nsassertion
+getrequirescleanup
+implemented
+nserrornotimplemented
+nsimethodimp
+nsmsgnewsfolder
+getsizeondisk
+pruint
+size
+nserrornotimplemented
+nsimethodimp
+nsmsgnewsfolder
+deletemessages
+nsisupportsarray
+messages
+nsimsgwindow
+amsgwindow
+prbool
+deletestorage
+prbool
+ismove
+nsimsgcopyservicelistener
+listener
+prbool
+allowundo
+nsresult
+rv
+nsok
+nsensureargpointer
+messages
+nsensureargpointer
+amsgwindow
+pruint
+count
+rv
+messages
+count
+count
+nsensuresuccess
+rv
+rv
+count
+nscomptr
+nsistringbundleservice
+bundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsistringbundle
+bundle
+rv
+bundleservice
+createbundle
+newsmsgsurl
+getteraddrefs
+bundle
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+alerttext
+rv
+bundle
+getstringfromname
+nsliteralstring
+onlycancelonemessage
+get
+gettercopies
+alerttext
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprompt
+dialog
+rv
+amsgwindow
+getpromptdialog
+getteraddrefs
+dialog
+nsensuresuccess
+rv
+rv
+dialog
+rv
+dialog
+alert
+nsnull
+prunichar
+alerttext
+nsensuresuccess
+rv
+rv
+nserrorfailure
+nscomptr
+nsinntpservice
+nntpservice
+dogetservice
+nsnntpservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgdbhdr
+msghdr
+doqueryelementat
+messages
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserver
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+serveruri
+rv
+server
+getserveruri
+gettercopies
+serveruri
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+messageid
+rv
+msghdr
+getmessageid
+gettercopies
+messageid
+nsensuresuccess
+rv
+rv
+escapedmessageid
+nsescape
+messageid
+get
+urlpath
+escapedmessageid
+nserroroutofmemory
+nscautostring
+cancelurl
+serveruri
+cancelurl
+cancelurl
+escapedmessageid
+cancelurl
+cancel
+prfreeif
+escapedmessageid
+nsxpidlcstring
+messageuri
+rv
+geturiformsg
+msghdr
+gettercopies
+messageuri
+nsensuresuccess
+rv
+rv
+rv
+nntpservice
+cancelmessage
+cancelurl
+get
+messageuri
+nsnull
+nsnull
+amsgwindow
+nsnull
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsmsgnewsfolder
+getnewmessages
+nsimsgwindow
+amsgwindow
+nsiurllistener
+alistener
+getnewsmessages
+amsgwindow
+prfalse
+alistener
+nsimethodimp
+nsmsgnewsfolder
+getnextnmessages
+nsimsgwindow
+amsgwindow
+getnewsmessages
+amsgwindow
+prtrue
+nsnull
+nsresult
+nsmsgnewsfolder
+getnewsmessages
+nsimsgwindow
+amsgwindow
+prbool
+agetold
+nsiurllistener
+aurllistener
+nsresult
+rv
+nsok
+prbool
+isnewsserver
+prfalse
+rv
+getisserver
+isnewsserver
+nsfailed
+rv
+rv
+isnewsserver
+nsok
+nscomptr
+nsinntpservice
+nntpservice
+dogetservice
+nsnntpservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsinntpincomingserver
+nntpserver
+rv
+getnntpserver
+getteraddrefs
+nntpserver
+nsfailed
+rv
+rv
+nscomptr
+nsiuri
+resulturi
+rv
+nntpservice
+getnewnews
+nntpserver
+muri
+agetold
+amsgwindow
+getteraddrefs
+resulturi
+aurllistener
+nssucceeded
+rv
+resulturi
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+resulturi
+msgurl
+msgurl
+registerlistener
+aurllistener
+rv
+nsresult
+nsmsgnewsfolder
+loadnewsrcfileandcreatenewsgroups
+nsresult
+rv
+nsok
+mnewsrcfilepath
+nserrorfailure
+prbool
+exists
+prfalse
+rv
+mnewsrcfilepath
+exists
+exists
+nsfailed
+rv
+rv
+exists
+nsok
+buffer
+nsnull
+rv
+mnewsrcfilepath
+openstreamforreading
+nsensuresuccess
+rv
+rv
+print
+numread
+nsfailed
+mnewsrcinputstream
+growbuffer
+newsrcfilebuffersize
+nserrorfailure
+buffer
+mnewsrcinputstream
+getbuffer
+rv
+mnewsrcfilepath
+read
+buffer
+newsrcfilebuffersize
+numread
+nsensuresuccess
+rv
+rv
+numread
+rv
+bufferinput
+mnewsrcinputstream
+getbuffer
+numread
+nsfailed
+rv
+mnewsrcfilepath
+closestream
+rv
+print
+nsmsgnewsfolder
+handleline
+line
+pruint
+linesize
+handlenewsrcline
+line
+linesize
+print
+nsmsgnewsfolder
+handlenewsrcline
+line
+pruint
+linesize
+nsresult
+rv
+line
+line
+nscrt
+cr
+line
+nscrt
+lf
+line
+linesize
+line
+line
+plstrncasecmp
+line
+options
+rememberline
+line
+nsnull
+setstr
+nsnull
+end
+line
+linesize
+line
+end
+rememberline
+line
+prbool
+subscribed
+setstr
+line
+plstrstr
+line
+plstrstr
+line
+subscribed
+prfalse
+subscribed
+nscomptr
+nsimsgfolder
+child
+rv
+addnewsgroup
+line
+setstr
+getteraddrefs
+child
+nsfailed
+rv
+rv
+rememberunsubscribedgroup
+line
+setstr
+nsfailed
+rv
+nsresult
+nsmsgnewsfolder
+rememberunsubscribedgroup
+newsgroup
+setstr
+newsgroup
+munsubscribednewsgrouplines
+newsgroup
+munsubscribednewsgrouplines
+setstr
+munsubscribednewsgrouplines
+setstr
+munsubscribednewsgrouplines
+msglinebreak
+nsok
+print
+nsmsgnewsfolder
+rememberline
+line
+moptionlines
+line
+moptionlines
+msglinebreak
+nsresult
+nsmsgnewsfolder
+forgetline
+moptionlines
+nsok
+nsimethodimp
+nsmsgnewsfolder
+getgroupusername
+agroupusername
+nsensureargpointer
+agroupusername
+nsresult
+rv
+mgroupusername
+agroupusername
+nscrt
+strdup
+mgroupusername
+rv
+nsok
+rv
+nserrorfailure
+rv
+nsimethodimp
+nsmsgnewsfolder
+setgroupusername
+agroupusername
+prfreeif
+mgroupusername
+agroupusername
+mgroupusername
+nscrt
+strdup
+agroupusername
+nsok
+nsimethodimp
+nsmsgnewsfolder
+getgrouppassword
+agrouppassword
+nsensureargpointer
+agrouppassword
+nsresult
+rv
+mgrouppassword
+agrouppassword
+nscrt
+strdup
+mgrouppassword
+rv
+nsok
+rv
+nserrorfailure
+rv
+nsimethodimp
+nsmsgnewsfolder
+setgrouppassword
+agrouppassword
+prfreeif
+mgrouppassword
+agrouppassword
+mgrouppassword
+nscrt
+strdup
+agrouppassword
+nsok
+nsresult
+nsmsgnewsfolder
+createnewsgroupusernameurlforsignon
+inuristr
+result
+createnewsgroupurlforsignon
+inuristr
+username
+result
+nsresult
+nsmsgnewsfolder
+createnewsgrouppasswordurlforsignon
+inuristr
+result
+createnewsgroupurlforsignon
+inuristr
+password
+result
+nsresult
+nsmsgnewsfolder
+createnewsgroupurlforsignon
+inuristr
+ref
+result
+nsresult
+rv
+print
+port
+nscomptr
+nsiurl
+url
+docreateinstance
+nsstandardurlcontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+url
+setspec
+nsdependentcstring
+inuristr
+nsfailed
+rv
+rv
+rv
+url
+getport
+port
+nsfailed
+rv
+rv
+port
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserver
+getteraddrefs
+server
+nsfailed
+rv
+rv
+prbool
+issecure
+prfalse
+rv
+server
+getissecure
+issecure
+nsfailed
+rv
+rv
+issecure
+rv
+url
+setport
+securenewsport
+rv
+url
+setport
+newsport
+nsfailed
+rv
+rv
+rv
+url
+setref
+nsdependentcstring
+ref
+nsfailed
+rv
+rv
+nscautostring
+spec
+rv
+url
+getspec
+spec
+nsfailed
+rv
+rv
+result
+tonewcstring
+spec
+result
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgnewsfolder
+forgetgroupusername
+nsresult
+rv
+nscomptr
+nsiobserverservice
+observerservice
+dogetservice
+observer
+service
+rv
+nsensuresuccess
+rv
+rv
+rv
+setgroupusername
+nsnull
+nsfailed
+rv
+rv
+nsxpidlcstring
+signonurl
+rv
+createnewsgroupusernameurlforsignon
+muri
+gettercopies
+signonurl
+nsfailed
+rv
+rv
+nscomptr
+nsiuri
+uri
+nsnewuri
+getteraddrefs
+uri
+signonurl
+rv
+createservicesforpasswordmanager
+nsensuresuccess
+rv
+rv
+rv
+observerservice
+notifyobservers
+uri
+login
+failed
+nsnull
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsmsgnewsfolder
+forgetgrouppassword
+nsresult
+rv
+nsok
+nscomptr
+nsiobserverservice
+observerservice
+dogetservice
+observer
+service
+rv
+nsensuresuccess
+rv
+rv
+rv
+setgrouppassword
+nsnull
+nsfailed
+rv
+rv
+nsxpidlcstring
+signonurl
+rv
+createnewsgrouppasswordurlforsignon
+muri
+gettercopies
+signonurl
+nsfailed
+rv
+rv
+nscomptr
+nsiuri
+uri
+nsnewuri
+getteraddrefs
+uri
+signonurl
+rv
+createservicesforpasswordmanager
+nsensuresuccess
+rv
+rv
+rv
+observerservice
+notifyobservers
+uri
+login
+failed
+nsnull
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsmsgnewsfolder
+getgrouppasswordwithui
+prunichar
+apromptmessage
+prunichar
+aprompttitle
+nsimsgwindow
+amsgwindow
+agrouppassword
+nsresult
+rv
+nsok
+nsensureargpointer
+agrouppassword
+mgrouppassword
+nscomptr
+nsiauthprompt
+dialog
+ifdef
+debugseth
+nsassertion
+amsgwindow
+no
+msg
+window
+endif
+amsgwindow
+nscomptr
+nsidocshell
+docshell
+rv
+amsgwindow
+getrootdocshell
+getteraddrefs
+docshell
+nsfailed
+rv
+rv
+nscomptr
+nsiwebshell
+webshell
+doqueryinterface
+docshell
+rv
+nsfailed
+rv
+rv
+dialog
+dogetinterface
+webshell
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsiwindowwatcher
+wwatch
+dogetservice
+nswindowwatchercontractid
+wwatch
+wwatch
+getnewauthprompter
+getteraddrefs
+dialog
+dialog
+nserrorfailure
+nsassertion
+dialog
+we
+didn
+get
+net
+prompt
+dialog
+nsxpidlstring
+unigrouppassword
+prbool
+okayvalue
+prtrue
+nsxpidlcstring
+signonurl
+rv
+createnewsgrouppasswordurlforsignon
+muri
+gettercopies
+signonurl
+nsfailed
+rv
+rv
+rv
+dialog
+promptpassword
+aprompttitle
+apromptmessage
+nsconvertasciitoucs
+nsstaticcast
+signonurl
+get
+nsiauthprompt
+savepasswordpermanently
+gettercopies
+unigrouppassword
+okayvalue
+nsfailed
+rv
+rv
+okayvalue
+agrouppassword
+nsnull
+rv
+rv
+setgrouppassword
+nslossyconvertucstoascii
+unigrouppassword
+get
+nsfailed
+rv
+rv
+rv
+getgrouppassword
+agrouppassword
+rv
+nsimethodimp
+nsmsgnewsfolder
+getgroupusernamewithui
+prunichar
+apromptmessage
+prunichar
+aprompttitle
+nsimsgwindow
+amsgwindow
+agroupusername
+nsresult
+rv
+nserrorfailure
+nsensureargpointer
+agroupusername
+mgroupusername
+nscomptr
+nsiauthprompt
+dialog
+ifdef
+debugseth
+nsassertion
+amsgwindow
+no
+msg
+window
+endif
+amsgwindow
+nscomptr
+nsidocshell
+docshell
+rv
+amsgwindow
+getrootdocshell
+getteraddrefs
+docshell
+nsfailed
+rv
+rv
+nscomptr
+nsiwebshell
+webshell
+doqueryinterface
+docshell
+rv
+nsfailed
+rv
+rv
+dialog
+dogetinterface
+webshell
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsiwindowwatcher
+wwatch
+dogetservice
+nswindowwatchercontractid
+wwatch
+wwatch
+getnewauthprompter
+getteraddrefs
+dialog
+dialog
+nserrorfailure
+nsassertion
+dialog
+we
+didn
+get
+net
+prompt
+dialog
+nsxpidlstring
+unigroupusername
+prbool
+okayvalue
+prtrue
+nsxpidlcstring
+signonurl
+rv
+createnewsgroupusernameurlforsignon
+muri
+gettercopies
+signonurl
+nsfailed
+rv
+rv
+rv
+dialog
+prompt
+aprompttitle
+apromptmessage
+nsconvertasciitoucs
+signonurl
+get
+nsiauthprompt
+savepasswordpermanently
+nsnull
+gettercopies
+unigroupusername
+okayvalue
+nsfailed
+rv
+rv
+okayvalue
+agroupusername
+nsnull
+rv
+rv
+setgroupusername
+nslossyconvertucstoascii
+unigroupusername
+get
+nsfailed
+rv
+rv
+rv
+getgroupusername
+agroupusername
+rv
+nsresult
+nsmsgnewsfolder
+createbasemessageuri
+auri
+nsresult
+rv
+rv
+nscreatenewsbasemessageuri
+auri
+mbasemessageuri
+rv
+nsimethodimp
+nsmsgnewsfolder
+getnewsrcline
+newsrcline
+nsresult
+rv
+newsrcline
+nserrornullpointer
+nsxpidlcstring
+newsgroupname
+rv
+getasciiname
+gettercopies
+newsgroupname
+nsfailed
+rv
+rv
+nscautostring
+newsrclinestr
+newsrclinestr
+newsgroupname
+newsrclinestr
+nsxpidlcstring
+setstr
+mreadset
+mreadset
+output
+gettercopies
+setstr
+nssucceeded
+rv
+newsrclinestr
+newsrclinestr
+setstr
+newsrclinestr
+msglinebreak
+newsrcline
+tonewcstring
+newsrclinestr
+newsrcline
+nserroroutofmemory
+nsok
+nsimethodimp
+nsmsgnewsfolder
+setreadsetfromstr
+newsrcline
+newsrcline
+nserrornullpointer
+mreadset
+mreadset
+mreadset
+nsmsgkeyset
+create
+newsrcline
+mreadset
+nserroroutofmemory
+nsresult
+rv
+nscomptr
+nsinewsdatabase
+db
+doqueryinterface
+mdatabase
+rv
+nssucceeded
+rv
+db
+db
+setreadset
+mreadset
+nsok
+nsimethodimp
+nsmsgnewsfolder
+getunsubscribednewsgrouplines
+aunsubscribednewsgrouplines
+aunsubscribednewsgrouplines
+nserrornullpointer
+munsubscribednewsgrouplines
+isempty
+aunsubscribednewsgrouplines
+tonewcstring
+munsubscribednewsgrouplines
+nsok
+nsimethodimp
+nsmsgnewsfolder
+getoptionlines
+optionlines
+optionlines
+nserrornullpointer
+moptionlines
+isempty
+optionlines
+tonewcstring
+moptionlines
+nsok
+nsimethodimp
+nsmsgnewsfolder
+onreadchanged
+nsidbchangelistener
+ainstigator
+setnewsrchaschanged
+prtrue
+nsimethodimp
+nsmsgnewsfolder
+getasciiname
+asciiname
+nsresult
+rv
+nsensureargpointer
+asciiname
+masciiname
+nsxpidlstring
+name
+rv
+getname
+gettercopies
+name
+nsensuresuccess
+rv
+rv
+nscautostring
+tmpstr
+tmpstr
+assignwithconversion
+name
+masciiname
+nscrt
+strdup
+tmpstr
+get
+masciiname
+nserroroutofmemory
+asciiname
+nscrt
+strdup
+masciiname
+asciiname
+nserroroutofmemory
+nsok
+nsimethodimp
+nsmsgnewsfolder
+getnntpserver
+nsinntpincomingserver
+result
+nsresult
+rv
+nsensureargpointer
+result
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserver
+getteraddrefs
+server
+nsfailed
+rv
+rv
+server
+nserrornullpointer
+nscomptr
+nsinntpincomingserver
+nntpserver
+rv
+server
+queryinterface
+nsgetiid
+nsinntpincomingserver
+getteraddrefs
+nntpserver
+nsfailed
+rv
+rv
+nsifaddref
+result
+nntpserver
+nsok
+nsimethodimp
+nsmsgnewsfolder
+removemessage
+nsmsgkey
+key
+nsresult
+rv
+getdatabase
+nsnull
+nsensuresuccess
+rv
+rv
+mdatabase
+deletemessage
+key
+nsnull
+prfalse
+nsimethodimp
+nsmsgnewsfolder
+cancelcomplete
+notifyfolderevent
+mdeleteormovemsgcompletedatom
+nsok
+nsimethodimp
+nsmsgnewsfolder
+cancelfailed
+notifyfolderevent
+mdeleteormovemsgfailedatom
+nsok
+nsimethodimp
+nsmsgnewsfolder
+getsavearticleoffline
+prbool
+abool
+nsensurearg
+abool
+abool
+mdownloadmessageforofflineuse
+nsok
+nsimethodimp
+nsmsgnewsfolder
+setsavearticleoffline
+prbool
+abool
+mdownloadmessageforofflineuse
+abool
+nsok
+nsimethodimp
+nsmsgnewsfolder
+downloadallforoffline
+nsiurllistener
+listener
+nsimsgwindow
+msgwindow
+nsmsgkeyarray
+srckeyarray
+setsavearticleoffline
+prtrue
+nsresult
+rv
+mdatabase
+nscomptr
+nsisimpleenumerator
+enumerator
+rv
+mdatabase
+enumeratemessages
+getteraddrefs
+enumerator
+nssucceeded
+rv
+enumerator
+prbool
+hasmore
+nssucceeded
+rv
+enumerator
+hasmoreelements
+hasmore
+hasmore
+nscomptr
+nsimsgdbhdr
+pheader
+rv
+enumerator
+getnext
+getteraddrefs
+pheader
+nsassertion
+nssucceeded
+rv
+nsmsgdbenumerator
+broken
+pheader
+nssucceeded
+rv
+prbool
+shouldstoremsgoffline
+prfalse
+nsmsgkey
+msgkey
+pheader
+getmessagekey
+msgkey
+msgfitsdownloadcriteria
+msgkey
+shouldstoremsgoffline
+shouldstoremsgoffline
+srckeyarray
+add
+msgkey
+downloadnewsarticlestoofflinestore
+downloadstate
+downloadnewsarticlestoofflinestore
+msgwindow
+mdatabase
+nsnull
+downloadstate
+downloadstate
+downloadarticles
+msgwindow
+srckeyarray
+nserroroutofmemory
+nsimethodimp
+nsmsgnewsfolder
+downloadmessagesforoffline
+nsisupportsarray
+messages
+nsimsgwindow
+window
+nsmsgkeyarray
+srckeyarray
+setsavearticleoffline
+prtrue
+pruint
+count
+pruint
+nsresult
+rv
+messages
+count
+count
+nsensuresuccess
+rv
+rv
+count
+nsmsgkey
+key
+nscomptr
+nsimsgdbhdr
+msgdbhdr
+doqueryelementat
+messages
+rv
+msgdbhdr
+rv
+msgdbhdr
+getmessagekey
+key
+nssucceeded
+rv
+srckeyarray
+add
+key
+downloadnewsarticlestoofflinestore
+downloadstate
+downloadnewsarticlestoofflinestore
+window
+mdatabase
+nsnull
+downloadstate
+downloadstate
+downloadarticles
+window
+srckeyarray
+nserroroutofmemory
+nsimethodimp
+nsmsgnewsfolder
+notifydownloadedline
+line
+nsmsgkey
+keyofarticle
+nsresult
+rv
+nsok
+prbool
+commit
+prfalse
+mdownloadmessageforofflineuse
+mtempmessagestream
+getmessageheader
+keyofarticle
+getteraddrefs
+mofflineheader
+rv
+startnewofflinemessage
+mnumofflinemsglines
+mtempmessagestream
+line
+line
+mofflineheader
+endnewofflinemessage
+commit
+prtrue
+mtempmessagestream
+mtempmessagestream
+close
+mtempmessagestream
+nsnull
+pruint
+count
+rv
+mtempmessagestream
+write
+line
+strlen
+line
+count
+nssucceeded
+rv
+rv
+mtempmessagestream
+write
+msglinebreak
+msglinebreaklen
+count
+nsassertion
+nssucceeded
+rv
+failed
+to
+write
+to
+stream
+commit
+mdatabase
+mdatabase
+commit
+nsmsgdbcommittype
+klargecommit
+rv
+nsimethodimp
+nsmsgnewsfolder
+compact
+nsiurllistener
+alistener
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+rv
+getdatabase
+nsnull
+mdatabase
+nscomptr
+nsimsgretentionsettings
+retentionsettings
+rv
+getretentionsettings
+getteraddrefs
+retentionsettings
+nssucceeded
+rv
+rv
+mdatabase
+applyretentionsettings
+retentionsettings
+rv
+nsimethodimp
+nsmsgnewsfolder
+getmessageidforkey
+nsmsgkey
+key
+result
+nsresult
+rv
+mdatabase
+nserrorunexpected
+nscomptr
+nsimsgdbhdr
+hdr
+rv
+mdatabase
+getmsghdrforkey
+key
+getteraddrefs
+hdr
+nsensuresuccess
+rv
+rv
+hdr
+nserrorinvalidarg
+hdr
+getmessageid
+result
+nsimethodimp
+nsmsgnewsfolder
+setsortorder
+print
+order
+msortorder
+order
+nsok
+nsimethodimp
+nsmsgnewsfolder
+getsortorder
+print
+order
+nsensureargpointer
+order
+order
+msortorder
+nsok
+nsimethodimp
+nsmsgnewsfolder
+getpersistelided
+prbool
+apersistelided
+nsresult
+rv
+prbool
+isnewsserver
+prfalse
+rv
+getisserver
+isnewsserver
+nsensuresuccess
+rv
+rv
+isnewsserver
+apersistelided
+prtrue
+nsok
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+prefbranch
+getboolpref
+news
+persistserveropenstateinfolderpane
+apersistelided
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsmsgnewsfolder
+shutdown
+prbool
+shutdownchildren
+mfilterlist
+nsresult
+rv
+mfilterlist
+setlogstream
+nsnull
+nsensuresuccess
+rv
+rv
+mfilterlist
+nsnull
+minitialized
+prfalse
+mreadset
+nsnull
+nsmsgdbfolder
+shutdown
+shutdownchildren
+nsimethodimp
+nsmsgnewsfolder
+setfilterlist
+nsimsgfilterlist
+afilterlist
+mfilterlist
+afilterlist
+nsok
+nsimethodimp
+nsmsgnewsfolder
+getfilterlist
+nsimsgwindow
+amsgwindow
+nsimsgfilterlist
+aresult
+mfilterlist
+nscomptr
+nsifilespec
+thisfolder
+nsresult
+rv
+getpath
+getteraddrefs
+thisfolder
+nsensuresuccess
+rv
+rv
+mfilterfile
+docreateinstance
+nsfilespeccontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+mfilterfile
+fromfilespec
+thisfolder
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+filterfilename
+rv
+mfilterfile
+getleafname
+gettercopies
+filterfilename
+nsensuresuccess
+rv
+rv
+filterfilename
+append
+dat
+rv
+mfilterfile
+setleafname
+filterfilename
+get
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgfilterservice
+filterservice
+dogetservice
+nsmsgfilterservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+filterservice
+openfilterlist
+mfilterfile
+amsgwindow
+getteraddrefs
+mfilterlist
+nsensuresuccess
+rv
+rv
+nsifaddref
+aresult
+mfilterlist
+nsok
\ No newline at end of file
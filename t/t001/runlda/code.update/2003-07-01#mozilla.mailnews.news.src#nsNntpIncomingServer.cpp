@@ -0,0 +1,3236 @@
+nsnntpincomingserver
+nsxpidlstring
+nsescape
+nsiprefbranch
+nsiprefservice
+nsimsgnewsfolder
+nsifolder
+nsifilespec
+nscomptr
+nsinntpservice
+nsinntpprotocol
+nsmsgnewscid
+nsnntpprotocol
+nsidirectoryservice
+nsappdirectoryservicedefs
+nsint
+nsmsgutils
+nsiprompt
+nsistringbundle
+nntpcore
+nsiwindowwatcher
+define
+invalidversion
+define
+validversion
+define
+newnewsdirname
+news
+define
+prefmailnewsrcroot
+mail
+newsrcroot
+define
+hostinfofilename
+hostinfo
+dat
+define
+newsdelimiter
+defined
+xpunix
+defined
+xpbeos
+define
+newsrcfileprefix
+newsrc
+define
+newsrcfilesuffix
+define
+newsrcfileprefix
+define
+newsrcfilesuffix
+rc
+endif
+define
+hostinfofilebuffersize
+nsdefinecid
+ksubscribableservercid
+nssubscribableservercid
+nsimpladdrefinherited
+nsnntpincomingserver
+nsmsgincomingserver
+nsimplreleaseinherited
+nsnntpincomingserver
+nsmsgincomingserver
+nsinterfacemapbegin
+nsnntpincomingserver
+nsinterfacemapentry
+nsinntpincomingserver
+nsinterfacemapentry
+nsiurllistener
+nsinterfacemapentry
+nsisubscribableserver
+nsinterfacemapentry
+nsitreeview
+nsinterfacemapendinheriting
+nsmsgincomingserver
+nsnntpincomingserver
+nsnntpincomingserver
+nsmsglinebuffer
+nsnull
+prfalse
+mnewsrchaschanged
+prfalse
+mgroupsenumerator
+nsnull
+nsnewisupportsarray
+getteraddrefs
+mconnectioncache
+mhostinfoloaded
+prfalse
+mhostinfohaschanged
+prfalse
+mversion
+invalidversion
+mhostinfostream
+nsnull
+mlastgroupdate
+muniqueid
+mhasseenbegingroups
+prfalse
+mpostingallowed
+prfalse
+mlastupdatedtime
+msubscribedatom
+getteraddrefs
+nsnewatom
+subscribed
+mnntpatom
+getteraddrefs
+nsnewatom
+nntp
+mcanhavefilters
+prtrue
+setupnewsrcsavetimer
+nsnntpincomingserver
+nsnntpincomingserver
+nsresult
+rv
+mgroupsenumerator
+mgroupsenumerator
+mgroupsenumerator
+nsnull
+mnewsrcsavetimer
+mnewsrcsavetimer
+cancel
+mnewsrcsavetimer
+nsnull
+mhostinfostream
+mhostinfostream
+close
+mhostinfostream
+mhostinfostream
+nsnull
+rv
+clearinner
+nsassertion
+nssucceeded
+rv
+clearinner
+failed
+rv
+closecachedconnections
+nsassertion
+nssucceeded
+rv
+closecachedconnections
+failed
+nsimplserverprefbool
+nsnntpincomingserver
+notifyon
+notify
+on
+nsimplserverprefbool
+nsnntpincomingserver
+markoldread
+markoldread
+nsimplserverprefbool
+nsnntpincomingserver
+abbreviate
+abbreviate
+nsimplserverprefbool
+nsnntpincomingserver
+pushauth
+alwaysauthenticate
+nsimplserverprefint
+nsnntpincomingserver
+maxarticles
+maxarticles
+nsimethodimp
+nsnntpincomingserver
+getnewsrcfilepath
+nsifilespec
+anewsrcfilepath
+nsresult
+rv
+mnewsrcfilepath
+anewsrcfilepath
+mnewsrcfilepath
+nsifaddref
+anewsrcfilepath
+nsok
+rv
+getfilevalue
+newsrc
+file
+anewsrcfilepath
+nssucceeded
+rv
+anewsrcfilepath
+mnewsrcfilepath
+anewsrcfilepath
+rv
+rv
+getnewsrcrootpath
+getteraddrefs
+mnewsrcfilepath
+nsfailed
+rv
+rv
+nsxpidlcstring
+hostname
+rv
+gethostname
+gettercopies
+hostname
+nsfailed
+rv
+rv
+rv
+mnewsrcfilepath
+appendrelativeunixpath
+dummy
+nsfailed
+rv
+rv
+nscautostring
+newsrcfilename
+newsrcfileprefix
+newsrcfilename
+append
+hostname
+newsrcfilename
+append
+newsrcfilesuffix
+rv
+mnewsrcfilepath
+makeuniquewithsuggestedname
+newsrcfilename
+get
+nsfailed
+rv
+rv
+rv
+setnewsrcfilepath
+mnewsrcfilepath
+nsfailed
+rv
+rv
+anewsrcfilepath
+mnewsrcfilepath
+nsaddref
+anewsrcfilepath
+nsok
+nsimethodimp
+nsnntpincomingserver
+setnewsrcfilepath
+nsifilespec
+spec
+nsresult
+rv
+spec
+nserrorfailure
+prbool
+exists
+rv
+spec
+exists
+exists
+exists
+rv
+spec
+touch
+nsfailed
+rv
+rv
+setfilevalue
+newsrc
+file
+spec
+nsimethodimp
+nsnntpincomingserver
+getlocalstoretype
+type
+nsensureargpointer
+type
+type
+nscrt
+strdup
+news
+nsok
+nsimethodimp
+nsnntpincomingserver
+setnewsrcrootpath
+nsifilespec
+anewsrcrootpath
+nsresult
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nssucceeded
+rv
+prefbranch
+prefbranch
+setcomplexvalue
+prefmailnewsrcroot
+nsgetiid
+nsifilespec
+anewsrcrootpath
+nserrorfailure
+nsimethodimp
+nsnntpincomingserver
+getnewsrcrootpath
+nsifilespec
+anewsrcrootpath
+nsensureargpointer
+anewsrcrootpath
+anewsrcrootpath
+nsnull
+nsresult
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nsfailed
+rv
+rv
+prbool
+havepref
+prfalse
+nscomptr
+nsifile
+localfile
+nscomptr
+nsilocalfile
+preflocal
+rv
+prefbranch
+getcomplexvalue
+prefmailnewsrcroot
+nsgetiid
+nsilocalfile
+getteraddrefs
+preflocal
+nssucceeded
+rv
+localfile
+preflocal
+havepref
+prtrue
+localfile
+rv
+nsgetspecialdirectory
+nsappnewsdir
+getteraddrefs
+localfile
+nsfailed
+rv
+rv
+havepref
+prfalse
+prbool
+exists
+rv
+localfile
+exists
+exists
+nssucceeded
+rv
+exists
+rv
+localfile
+create
+nsifile
+directorytype
+nsfailed
+rv
+rv
+nscomptr
+nsifilespec
+outspec
+rv
+nsnewfilespecfromifile
+localfile
+getteraddrefs
+outspec
+nsfailed
+rv
+rv
+havepref
+exists
+rv
+setnewsrcrootpath
+outspec
+anewsrcrootpath
+outspec
+nsifaddref
+anewsrcrootpath
+rv
+nsnntpincomingserver
+onnewsrcsavetimer
+nsitimer
+timer
+voidincomingserver
+nsnntpincomingserver
+incomingserver
+nsnntpincomingserver
+voidincomingserver
+incomingserver
+writenewsrcfile
+nsresult
+nsnntpincomingserver
+setupnewsrcsavetimer
+nsint
+ms
+pruint
+timeinmsuint
+pruint
+ms
+mnewsrcsavetimer
+mnewsrcsavetimer
+cancel
+mnewsrcsavetimer
+docreateinstance
+timer
+mnewsrcsavetimer
+initwithfunccallback
+onnewsrcsavetimer
+timeinmsuint
+nsitimer
+typerepeatingslack
+nsok
+nsimethodimp
+nsnntpincomingserver
+writenewsrcfile
+nsresult
+rv
+prbool
+newsrchaschanged
+rv
+getnewsrchaschanged
+newsrchaschanged
+nsfailed
+rv
+rv
+ifdef
+debugnews
+nsxpidlcstring
+hostname
+rv
+gethostname
+gettercopies
+hostname
+nsfailed
+rv
+rv
+endif
+newsrchaschanged
+ifdef
+debugnews
+printf
+write
+newsrc
+file
+hostname
+endif
+nscomptr
+nsifilespec
+newsrcfile
+rv
+getnewsrcfilepath
+getteraddrefs
+newsrcfile
+nsfailed
+rv
+rv
+nsfilespec
+newsrcfilespec
+rv
+newsrcfile
+getfilespec
+newsrcfilespec
+nsfailed
+rv
+rv
+nsiofilestream
+newsrcstream
+newsrcfilespec
+prrdwr
+prcreatefile
+prtruncate
+nscomptr
+nsienumerator
+subfolders
+nscomptr
+nsifolder
+rootfolder
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nsfailed
+rv
+rv
+nscomptr
+nsimsgnewsfolder
+newsfolder
+doqueryinterface
+rootfolder
+rv
+nsfailed
+rv
+rv
+nsxpidlcstring
+optionlines
+rv
+newsfolder
+getoptionlines
+gettercopies
+optionlines
+nssucceeded
+rv
+optionlines
+newsrcstream
+optionlines
+ifdef
+debugnews
+printf
+option
+lines
+optionlines
+endif
+ifdef
+debugnews
+printf
+no
+option
+lines
+to
+write
+out
+endif
+nsxpidlcstring
+unsubscribedlines
+rv
+newsfolder
+getunsubscribednewsgrouplines
+gettercopies
+unsubscribedlines
+nssucceeded
+rv
+unsubscribedlines
+newsrcstream
+unsubscribedlines
+ifdef
+debugnews
+printf
+unsubscribedlines
+unsubscribedlines
+endif
+ifdef
+debugnews
+printf
+no
+unsubscribed
+lines
+to
+write
+out
+endif
+rv
+rootfolder
+getsubfolders
+getteraddrefs
+subfolders
+nsfailed
+rv
+rv
+nsadapterenumerator
+simpleenumerator
+nsadapterenumerator
+subfolders
+simpleenumerator
+nsnull
+nserroroutofmemory
+prbool
+morefolders
+nssucceeded
+simpleenumerator
+hasmoreelements
+morefolders
+morefolders
+nscomptr
+nsisupports
+child
+rv
+simpleenumerator
+getnext
+getteraddrefs
+child
+nssucceeded
+rv
+child
+newsfolder
+doqueryinterface
+child
+rv
+nssucceeded
+rv
+newsfolder
+nsxpidlcstring
+newsrcline
+rv
+newsfolder
+getnewsrcline
+gettercopies
+newsrcline
+nssucceeded
+rv
+newsrcline
+newsrcstream
+newsrcline
+simpleenumerator
+newsrcstream
+close
+rv
+setnewsrchaschanged
+prfalse
+nsfailed
+rv
+rv
+ifdef
+debugnews
+printf
+no
+need
+to
+write
+newsrc
+file
+it
+was
+dirty
+hostname
+endif
+nsok
+nsimethodimp
+nsnntpincomingserver
+setnewsrchaschanged
+prbool
+anewsrchaschanged
+mnewsrchaschanged
+anewsrchaschanged
+nsok
+nsimethodimp
+nsnntpincomingserver
+getnewsrchaschanged
+prbool
+anewsrchaschanged
+anewsrchaschanged
+nserrornullpointer
+anewsrchaschanged
+mnewsrchaschanged
+nsok
+nsimethodimp
+nsnntpincomingserver
+closecachedconnections
+nsresult
+rv
+pruint
+cnt
+nscomptr
+nsinntpprotocol
+connection
+mconnectioncache
+rv
+mconnectioncache
+count
+cnt
+nsfailed
+rv
+rv
+pruint
+cnt
+connection
+doqueryelementat
+mconnectioncache
+connection
+rv
+connection
+closeconnection
+removeconnection
+connection
+rv
+writenewsrcfile
+nsfailed
+rv
+rv
+rv
+writehostinfofile
+nsfailed
+rv
+rv
+nsok
+nsimplserverprefint
+nsnntpincomingserver
+maximumconnectionsnumber
+maxcachedconnections
+prbool
+nsnntpincomingserver
+connectiontimeout
+nsinntpprotocol
+aconnection
+prbool
+retval
+prfalse
+aconnection
+retval
+nsresult
+rv
+prtime
+cachetimeoutlimits
+llil
+cachetimeoutlimits
+prtime
+lastactivetimestamp
+rv
+aconnection
+getlastactivetimestamp
+lastactivetimestamp
+prtime
+elapsedtime
+llsub
+elapsedtime
+prnow
+lastactivetimestamp
+prtime
+llsub
+elapsedtime
+cachetimeoutlimits
+llgezero
+ifdef
+debugseth
+printf
+xxx
+connection
+timed
+out
+close
+it
+remove
+it
+from
+the
+connection
+cache
+endif
+aconnection
+closeconnection
+mconnectioncache
+removeelement
+aconnection
+retval
+prtrue
+retval
+nsresult
+nsnntpincomingserver
+createprotocolinstance
+nsinntpprotocol
+anntpconnection
+nsiuri
+url
+nsimsgwindow
+amsgwindow
+nsnntpprotocol
+protocolinstance
+nsnntpprotocol
+url
+amsgwindow
+protocolinstance
+nserroroutofmemory
+nsresult
+rv
+protocolinstance
+queryinterface
+nsgetiid
+nsinntpprotocol
+anntpconnection
+nssucceeded
+rv
+anntpconnection
+mconnectioncache
+appendelement
+anntpconnection
+rv
+define
+kmaxconnectionsperhost
+nsimethodimp
+nsnntpincomingserver
+getnntpconnection
+nsiuri
+auri
+nsimsgwindow
+amsgwindow
+nsinntpprotocol
+anntpconnection
+nsresult
+rv
+nsok
+nscomptr
+nsinntpprotocol
+connection
+nscomptr
+nsinntpprotocol
+freeconnection
+prbool
+isbusy
+prtrue
+print
+maxconnections
+kmaxconnectionsperhost
+rv
+getmaximumconnectionsnumber
+maxconnections
+nsfailed
+rv
+maxconnections
+maxconnections
+kmaxconnectionsperhost
+rv
+setmaximumconnectionsnumber
+maxconnections
+maxconnections
+maxconnections
+rv
+setmaximumconnectionsnumber
+maxconnections
+anntpconnection
+nsnull
+pruint
+cnt
+rv
+mconnectioncache
+count
+cnt
+nsfailed
+rv
+rv
+ifdef
+debugseth
+printf
+xxx
+there
+are
+nntp
+connections
+in
+the
+conn
+cache
+cnt
+endif
+pruint
+cnt
+isbusy
+connection
+doqueryelementat
+mconnectioncache
+connection
+rv
+connection
+getisbusy
+isbusy
+nsfailed
+rv
+connection
+nsnull
+freeconnection
+isbusy
+connection
+freeconnection
+connection
+connectiontimeout
+freeconnection
+freeconnection
+nsnull
+isbusy
+freeconnection
+anntpconnection
+freeconnection
+freeconnection
+setiscachedconnection
+prtrue
+nsifaddref
+anntpconnection
+rv
+createprotocolinstance
+anntpconnection
+auri
+amsgwindow
+rv
+nsimethodimp
+nsnntpincomingserver
+removeconnection
+nsinntpprotocol
+anntpconnection
+anntpconnection
+mconnectioncache
+removeelement
+anntpconnection
+nsok
+nsimethodimp
+nsnntpincomingserver
+performexpand
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+print
+numgroups
+rv
+getnumgroupsneedingcounts
+numgroups
+nsensuresuccess
+rv
+rv
+numgroups
+nsok
+nscomptr
+nsinntpservice
+nntpservice
+dogetservice
+nsnntpservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+nntpservice
+updatecounts
+amsgwindow
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsnntpincomingserver
+getfilterlist
+nsimsgwindow
+amsgwindow
+nsimsgfilterlist
+aresult
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+getnumgroupsneedingcounts
+print
+anumgroupsneedingcounts
+nscomptr
+nsienumerator
+subfolders
+nscomptr
+nsifolder
+rootfolder
+nsresult
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nsfailed
+rv
+rv
+prbool
+hassubfolders
+prfalse
+rv
+rootfolder
+gethassubfolders
+hassubfolders
+nsfailed
+rv
+rv
+hassubfolders
+anumgroupsneedingcounts
+nsok
+rv
+rootfolder
+getsubfolders
+getteraddrefs
+subfolders
+nsfailed
+rv
+rv
+mgroupsenumerator
+mgroupsenumerator
+mgroupsenumerator
+nsnull
+mgroupsenumerator
+nsadapterenumerator
+subfolders
+mgroupsenumerator
+nsnull
+nserroroutofmemory
+pruint
+count
+rv
+rootfolder
+count
+count
+nsfailed
+rv
+rv
+anumgroupsneedingcounts
+print
+count
+nsok
+nsimethodimp
+nsnntpincomingserver
+getfirstgroupneedingcounts
+nsisupports
+afirstgroupneedingcounts
+nsresult
+rv
+afirstgroupneedingcounts
+nserrornullpointer
+prbool
+morefolders
+mgroupsenumerator
+nserrorfailure
+rv
+mgroupsenumerator
+hasmoreelements
+morefolders
+nsfailed
+rv
+rv
+morefolders
+afirstgroupneedingcounts
+nsnull
+mgroupsenumerator
+mgroupsenumerator
+nsnull
+nsok
+rv
+mgroupsenumerator
+getnext
+afirstgroupneedingcounts
+nsfailed
+rv
+rv
+afirstgroupneedingcounts
+nserrorfailure
+nsok
+nsimethodimp
+nsnntpincomingserver
+displaysubscribedgroup
+nsimsgnewsfolder
+amsgfolder
+print
+afirstmessage
+print
+alastmessage
+print
+atotalmessages
+nsresult
+rv
+amsgfolder
+nserrornullpointer
+ifdef
+debugnews
+printf
+displaysubscribedgroup
+ld
+ld
+ld
+afirstmessage
+alastmessage
+atotalmessages
+endif
+rv
+amsgfolder
+updatesummaryfromnntpinfo
+afirstmessage
+alastmessage
+atotalmessages
+rv
+nsimethodimp
+nsnntpincomingserver
+performbiff
+nsimsgwindow
+amsgwindow
+ifdef
+debugnews
+printf
+performbiff
+nntp
+endif
+performexpand
+nsnull
+nsimethodimp
+nsnntpincomingserver
+getserverrequirespasswordforbiff
+prbool
+aserverrequirespasswordforbiff
+nsensureargpointer
+aserverrequirespasswordforbiff
+aserverrequirespasswordforbiff
+prfalse
+nsok
+nsimethodimp
+nsnntpincomingserver
+onstartrunningurl
+nsiuri
+url
+nsok
+nsimethodimp
+nsnntpincomingserver
+onstoprunningurl
+nsiuri
+url
+nsresult
+exitcode
+nsresult
+rv
+rv
+updatesubscribed
+nsfailed
+rv
+rv
+rv
+stoppopulating
+mmsgwindow
+nsfailed
+rv
+rv
+nsok
+prbool
+checkifsubscribedfunction
+nscstring
+aelement
+adata
+nscrt
+strcmp
+adata
+aelement
+get
+prfalse
+prtrue
+nsimethodimp
+nsnntpincomingserver
+containsnewsgroup
+name
+prbool
+containsgroup
+nsassertion
+name
+strlen
+name
+no
+name
+name
+containsgroup
+nserrornullpointer
+strlen
+name
+nserrorfailure
+containsgroup
+msubscribednewsgroups
+enumerateforwards
+nscstringarrayenumfunc
+checkifsubscribedfunction
+name
+nsok
+nsimethodimp
+nsnntpincomingserver
+subscribetonewsgroup
+name
+nsresult
+rv
+nsassertion
+name
+strlen
+name
+no
+name
+name
+nserrornullpointer
+strlen
+name
+nserrorfailure
+nscomptr
+nsimsgfolder
+msgfolder
+rv
+getrootmsgfolder
+getteraddrefs
+msgfolder
+nsfailed
+rv
+rv
+msgfolder
+nserrorfailure
+nsxpidlstring
+newsgroupname
+rv
+nsmsgdecodeunescapeurlpath
+name
+gettercopies
+newsgroupname
+nsensuresuccess
+rv
+rv
+rv
+msgfolder
+createsubfolder
+newsgroupname
+get
+nsnull
+nsfailed
+rv
+rv
+nsok
+prbool
+writegrouptohostinfofile
+nscstring
+aelement
+adata
+nsiofilestream
+stream
+stream
+nsiofilestream
+adata
+nsassertion
+stream
+no
+stream
+stream
+prfalse
+nsxpidlstring
+name
+nsresult
+rv
+nsmsgdecodeunescapeurlpath
+aelement
+get
+gettercopies
+name
+nsfailed
+rv
+prfalse
+nscautostring
+nameondisk
+nameondisk
+assignwithconversion
+name
+get
+stream
+nameondisk
+get
+msglinebreak
+prtrue
+nsresult
+nsnntpincomingserver
+writehostinfofile
+nsresult
+rv
+nsok
+mhostinfohaschanged
+nsok
+print
+firstnewdate
+llli
+firstnewdate
+mfirstnewdate
+nsxpidlcstring
+hostname
+rv
+gethostname
+gettercopies
+hostname
+nsensuresuccess
+rv
+rv
+nsfilespec
+hostinfofilespec
+mhostinfofile
+nserrorunexpected
+rv
+mhostinfofile
+getfilespec
+hostinfofilespec
+nsensuresuccess
+rv
+rv
+mhostinfostream
+mhostinfostream
+close
+mhostinfostream
+mhostinfostream
+nsnull
+mhostinfostream
+nsiofilestream
+hostinfofilespec
+prrdwr
+prcreatefile
+prtruncate
+nsassertion
+mhostinfostream
+no
+stream
+mhostinfostream
+news
+host
+information
+file
+msglinebreak
+mhostinfostream
+this
+is
+generated
+file
+do
+edit
+msglinebreak
+mhostinfostream
+msglinebreak
+mhostinfostream
+version
+validversion
+msglinebreak
+mhostinfostream
+newsrcname
+hostname
+msglinebreak
+mhostinfostream
+lastgroupdate
+mlastgroupdate
+msglinebreak
+mhostinfostream
+firstnewdate
+firstnewdate
+msglinebreak
+mhostinfostream
+uniqueid
+muniqueid
+msglinebreak
+mhostinfostream
+msglinebreak
+mhostinfostream
+begingroups
+msglinebreak
+mgroupsonserver
+enumerateforwards
+nscstringarrayenumfunc
+writegrouptohostinfofile
+mhostinfostream
+mhostinfostream
+close
+mhostinfostream
+mhostinfostream
+nsnull
+mhostinfohaschanged
+prfalse
+nsok
+nsresult
+nsnntpincomingserver
+loadhostinfofile
+nsresult
+rv
+mhostinfoloaded
+prfalse
+rv
+getlocalpath
+getteraddrefs
+mhostinfofile
+nsfailed
+rv
+rv
+mhostinfofile
+nserrorfailure
+rv
+mhostinfofile
+appendrelativeunixpath
+hostinfofilename
+nsfailed
+rv
+rv
+prbool
+exists
+rv
+mhostinfofile
+exists
+exists
+nsfailed
+rv
+rv
+exists
+nsok
+buffer
+nsnull
+rv
+mhostinfofile
+openstreamforreading
+nsensuresuccess
+rv
+rv
+print
+numread
+nsfailed
+mhostinfoinputstream
+growbuffer
+hostinfofilebuffersize
+nserrorfailure
+mhasseenbegingroups
+prfalse
+buffer
+mhostinfoinputstream
+getbuffer
+rv
+mhostinfofile
+read
+buffer
+hostinfofilebuffersize
+numread
+nsensuresuccess
+rv
+rv
+numread
+rv
+bufferinput
+mhostinfoinputstream
+getbuffer
+numread
+nsfailed
+rv
+mhostinfofile
+closestream
+rv
+updatesubscribed
+nsfailed
+rv
+rv
+nsok
+nsimethodimp
+nsnntpincomingserver
+startpopulatingwithuri
+nsimsgwindow
+amsgwindow
+prbool
+aforcetoserver
+uri
+nsresult
+rv
+nsok
+ifdef
+debugseth
+printf
+startpopulatingwithuri
+uri
+endif
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+rv
+minner
+startpopulatingwithuri
+amsgwindow
+aforcetoserver
+uri
+nsensuresuccess
+rv
+rv
+rv
+stoppopulating
+mmsgwindow
+nsfailed
+rv
+rv
+nsok
+nsimethodimp
+nsnntpincomingserver
+subscribecleanup
+nsresult
+rv
+nsok
+rv
+clearinner
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsnntpincomingserver
+startpopulating
+nsimsgwindow
+amsgwindow
+prbool
+aforcetoserver
+nsresult
+rv
+mmsgwindow
+amsgwindow
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+rv
+minner
+startpopulating
+amsgwindow
+aforcetoserver
+nsensuresuccess
+rv
+rv
+rv
+setdelimiter
+newsdelimiter
+nsfailed
+rv
+rv
+rv
+setshowfullname
+prtrue
+nsfailed
+rv
+rv
+nscomptr
+nsinntpservice
+nntpservice
+dogetservice
+nsnntpservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+mhostinfoloaded
+prfalse
+mversion
+invalidversion
+mgroupsonserver
+clear
+aforcetoserver
+rv
+loadhostinfofile
+nsfailed
+rv
+rv
+mhostinfoloaded
+mversion
+validversion
+mhostinfohaschanged
+prtrue
+mversion
+validversion
+mgroupsonserver
+clear
+rv
+nntpservice
+getlistofgroupsonserver
+amsgwindow
+nsfailed
+rv
+rv
+rv
+stoppopulating
+amsgwindow
+nsfailed
+rv
+rv
+nsok
+nsimethodimp
+nsnntpincomingserver
+addnewsgrouptolist
+aname
+nsresult
+rv
+rv
+addto
+aname
+prfalse
+prtrue
+nsfailed
+rv
+rv
+nsok
+nsimethodimp
+nsnntpincomingserver
+setincomingserver
+nsimsgincomingserver
+aserver
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+minner
+setincomingserver
+aserver
+nsimethodimp
+nsnntpincomingserver
+setshowfullname
+prbool
+showfullname
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+minner
+setshowfullname
+showfullname
+nsresult
+nsnntpincomingserver
+clearinner
+nsresult
+rv
+nsok
+minner
+rv
+minner
+setsubscribelistener
+nsnull
+nsensuresuccess
+rv
+rv
+rv
+minner
+setincomingserver
+nsnull
+nsensuresuccess
+rv
+rv
+minner
+nsnull
+nsok
+nsresult
+nsnntpincomingserver
+ensureinner
+nsresult
+rv
+nsok
+minner
+nsok
+minner
+docreateinstance
+ksubscribableservercid
+rv
+nsensuresuccess
+rv
+rv
+minner
+nserrorfailure
+rv
+setincomingserver
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsnntpincomingserver
+getdelimiter
+adelimiter
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+minner
+getdelimiter
+adelimiter
+nsimethodimp
+nsnntpincomingserver
+setdelimiter
+adelimiter
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+minner
+setdelimiter
+adelimiter
+nsimethodimp
+nsnntpincomingserver
+setassubscribed
+path
+mtempsubscribed
+appendcstring
+nscautostring
+path
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+minner
+setassubscribed
+path
+prbool
+setassubscribedfunction
+nscstring
+aelement
+adata
+nsresult
+rv
+nsok
+nsnntpincomingserver
+server
+server
+nsnntpincomingserver
+adata
+nsassertion
+server
+no
+server
+server
+prfalse
+rv
+server
+setassubscribed
+aelement
+get
+nsassertion
+nssucceeded
+rv
+setassubscribed
+failed
+prtrue
+nsimethodimp
+nsnntpincomingserver
+updatesubscribed
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+mtempsubscribed
+clear
+msubscribednewsgroups
+enumerateforwards
+nscstringarrayenumfunc
+setassubscribedfunction
+nsok
+nsimethodimp
+nsnntpincomingserver
+addto
+aname
+prbool
+addassubscribed
+prbool
+changeifexists
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+nsautostring
+newsgroupname
+newsgroupname
+assignwithconversion
+aname
+escapedname
+nsescape
+nsconvertucstoutf
+newsgroupname
+get
+get
+urlpath
+escapedname
+nserroroutofmemory
+rv
+addgrouponserver
+escapedname
+nsensuresuccess
+rv
+rv
+rv
+minner
+addto
+escapedname
+addassubscribed
+changeifexists
+nsensuresuccess
+rv
+rv
+prfreeif
+escapedname
+rv
+nsimethodimp
+nsnntpincomingserver
+stoppopulating
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+nsok
+nscomptr
+nsisubscribelistener
+listener
+rv
+getsubscribelistener
+getteraddrefs
+listener
+nsensuresuccess
+rv
+rv
+listener
+nserrorfailure
+rv
+listener
+ondonepopulating
+nsensuresuccess
+rv
+rv
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+rv
+minner
+stoppopulating
+amsgwindow
+nsensuresuccess
+rv
+rv
+rv
+writehostinfofile
+nsfailed
+rv
+rv
+nsok
+nsimethodimp
+nsnntpincomingserver
+setsubscribelistener
+nsisubscribelistener
+alistener
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+minner
+setsubscribelistener
+alistener
+nsimethodimp
+nsnntpincomingserver
+getsubscribelistener
+nsisubscribelistener
+alistener
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+minner
+getsubscribelistener
+alistener
+nsimethodimp
+nsnntpincomingserver
+subscribe
+prunichar
+aunicharname
+subscribetonewsgroup
+nslossyconvertucstoascii
+aunicharname
+get
+nsimethodimp
+nsnntpincomingserver
+unsubscribe
+prunichar
+aunicharname
+nsresult
+rv
+nscomptr
+nsimsgfolder
+serverfolder
+rv
+getrootmsgfolder
+getteraddrefs
+serverfolder
+nsfailed
+rv
+rv
+serverfolder
+nserrorfailure
+nsxpidlcstring
+escapedname
+rv
+nsmsgescapeencodeurlpath
+aunicharname
+gettercopies
+escapedname
+nsensuresuccess
+rv
+rv
+nscomptr
+nsifolder
+subfolder
+rv
+serverfolder
+findsubfolder
+escapedname
+get
+getteraddrefs
+subfolder
+nsfailed
+rv
+rv
+nscomptr
+nsimsgfolder
+newsgroupfolder
+doqueryinterface
+subfolder
+rv
+nsfailed
+rv
+rv
+newsgroupfolder
+nserrorfailure
+rv
+serverfolder
+propagatedelete
+newsgroupfolder
+prtrue
+nsnull
+nsfailed
+rv
+rv
+rv
+setnewsrchaschanged
+prtrue
+nsfailed
+rv
+rv
+nsok
+print
+nsnntpincomingserver
+handleline
+line
+pruint
+linesize
+nsassertion
+line
+line
+is
+line
+line
+line
+line
+linesize
+mhasseenbegingroups
+commapos
+plstrchr
+line
+commapos
+commapos
+nsresult
+rv
+addto
+line
+prfalse
+prtrue
+nsassertion
+nssucceeded
+rv
+failed
+to
+add
+line
+nssucceeded
+rv
+mhostinfoloaded
+prtrue
+nscrt
+strncmp
+line
+begingroups
+mhasseenbegingroups
+prtrue
+equalpos
+plstrchr
+line
+equalpos
+equalpos
+plstrcmp
+line
+lastgroupdate
+mlastgroupdate
+strtol
+equalpos
+nsnull
+plstrcmp
+line
+firstnewdate
+print
+firstnewdate
+strtol
+equalpos
+nsnull
+llil
+mfirstnewdate
+firstnewdate
+plstrcmp
+line
+uniqueid
+muniqueid
+strtol
+equalpos
+nsnull
+plstrcmp
+line
+version
+mversion
+strtol
+equalpos
+nsnull
+nsresult
+nsnntpincomingserver
+addgrouponserver
+name
+mgroupsonserver
+appendcstring
+nscautostring
+name
+nsok
+nsimethodimp
+nsnntpincomingserver
+addnewsgroup
+name
+msubscribednewsgroups
+appendcstring
+nscautostring
+name
+nsok
+nsimethodimp
+nsnntpincomingserver
+removenewsgroup
+name
+msubscribednewsgroups
+removecstring
+nscautostring
+name
+nsok
+nsimethodimp
+nsnntpincomingserver
+setstate
+path
+prbool
+state
+prbool
+statechanged
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+rv
+minner
+setstate
+path
+state
+statechanged
+statechanged
+state
+mtempsubscribed
+appendcstring
+nscautostring
+path
+mtempsubscribed
+removecstring
+nscautostring
+path
+rv
+nsimethodimp
+nsnntpincomingserver
+haschildren
+path
+prbool
+ahaschildren
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+minner
+haschildren
+path
+ahaschildren
+nsimethodimp
+nsnntpincomingserver
+issubscribed
+path
+prbool
+aissubscribed
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+minner
+issubscribed
+path
+aissubscribed
+nsimethodimp
+nsnntpincomingserver
+getleafname
+path
+prunichar
+aleafname
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+minner
+getleafname
+path
+aleafname
+nsimethodimp
+nsnntpincomingserver
+getfirstchilduri
+path
+aresult
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+minner
+getfirstchilduri
+path
+aresult
+nsimethodimp
+nsnntpincomingserver
+getchildren
+path
+nsisupportsarray
+array
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+minner
+getchildren
+path
+array
+nsimethodimp
+nsnntpincomingserver
+commitsubscribechanges
+nsresult
+rv
+rv
+setnewsrchaschanged
+prtrue
+nsensuresuccess
+rv
+rv
+writenewsrcfile
+nsimethodimp
+nsnntpincomingserver
+forgetpassword
+nsresult
+rv
+nscomptr
+nsifolder
+rootfolder
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nsensuresuccess
+rv
+rv
+rootfolder
+nserrorfailure
+nscomptr
+nsimsgnewsfolder
+newsfolder
+doqueryinterface
+rootfolder
+rv
+nsensuresuccess
+rv
+rv
+newsfolder
+nserrorfailure
+rv
+newsfolder
+forgetgroupusername
+nsensuresuccess
+rv
+rv
+rv
+newsfolder
+forgetgrouppassword
+nsensuresuccess
+rv
+rv
+nscomptr
+nsienumerator
+subfolders
+rv
+rootfolder
+getsubfolders
+getteraddrefs
+subfolders
+nsensuresuccess
+rv
+rv
+nsadapterenumerator
+simpleenumerator
+nsadapterenumerator
+subfolders
+simpleenumerator
+nserroroutofmemory
+prbool
+morefolders
+prfalse
+nsresult
+returnrv
+nsok
+nssucceeded
+simpleenumerator
+hasmoreelements
+morefolders
+morefolders
+nscomptr
+nsisupports
+child
+rv
+simpleenumerator
+getnext
+getteraddrefs
+child
+nssucceeded
+rv
+child
+newsfolder
+doqueryinterface
+child
+rv
+nssucceeded
+rv
+newsfolder
+rv
+newsfolder
+forgetgroupusername
+nsfailed
+rv
+returnrv
+rv
+rv
+newsfolder
+forgetgrouppassword
+nsfailed
+rv
+returnrv
+rv
+returnrv
+nserrorfailure
+simpleenumerator
+returnrv
+nsimethodimp
+nsnntpincomingserver
+getsupportsextensions
+prbool
+asupportsextensions
+nsassertion
+implemented
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+setsupportsextensions
+prbool
+asupportsextensions
+nsassertion
+implemented
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+addextension
+extension
+nsassertion
+implemented
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+queryextension
+extension
+prbool
+result
+ifdef
+debugseth
+printf
+no
+extension
+support
+yet
+endif
+result
+prfalse
+nsok
+nsimethodimp
+nsnntpincomingserver
+getpostingallowed
+prbool
+apostingallowed
+apostingallowed
+mpostingallowed
+nsok
+nsimethodimp
+nsnntpincomingserver
+setpostingallowed
+prbool
+apostingallowed
+mpostingallowed
+apostingallowed
+nsok
+nsimethodimp
+nsnntpincomingserver
+getlastupdatedtime
+pruint
+alastupdatedtime
+alastupdatedtime
+mlastupdatedtime
+nsok
+nsimethodimp
+nsnntpincomingserver
+setlastupdatedtime
+pruint
+alastupdatedtime
+nsassertion
+implemented
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+addpropertyforget
+name
+value
+nsassertion
+implemented
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+querypropertyforget
+name
+value
+nsassertion
+implemented
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+addsearchablegroup
+name
+nsassertion
+implemented
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+querysearchablegroup
+name
+prbool
+result
+nsassertion
+implemented
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+addsearchableheader
+name
+nsassertion
+implemented
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+querysearchableheader
+name
+prbool
+result
+nsassertion
+implemented
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+findgroup
+name
+nsimsgnewsfolder
+result
+nsensureargpointer
+name
+nsensureargpointer
+result
+nsresult
+rv
+nscomptr
+nsimsgfolder
+serverfolder
+rv
+getrootmsgfolder
+getteraddrefs
+serverfolder
+nsensuresuccess
+rv
+rv
+serverfolder
+nserrorfailure
+nscomptr
+nsifolder
+subfolder
+rv
+serverfolder
+findsubfolder
+name
+getteraddrefs
+subfolder
+nsensuresuccess
+rv
+rv
+subfolder
+nserrorfailure
+rv
+subfolder
+queryinterface
+nsgetiid
+nsimsgnewsfolder
+result
+nsensuresuccess
+rv
+rv
+result
+nserrorfailure
+nsok
+nsimethodimp
+nsnntpincomingserver
+getfirstgroupneedingextrainfo
+result
+nsassertion
+implemented
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+setgroupneedsextrainfo
+name
+prbool
+needsextrainfo
+nsassertion
+implemented
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+groupnotfound
+nsimsgwindow
+amsgwindow
+aname
+prbool
+aopening
+nsensureargpointer
+aname
+nsresult
+rv
+nscomptr
+nsiprompt
+prompt
+amsgwindow
+rv
+amsgwindow
+getpromptdialog
+getteraddrefs
+prompt
+nsassertion
+nssucceeded
+rv
+no
+prompt
+from
+the
+msg
+window
+prompt
+nscomptr
+nsiwindowwatcher
+wwatch
+dogetservice
+nswindowwatchercontractid
+rv
+wwatch
+getnewprompter
+nsnull
+getteraddrefs
+prompt
+nsensuresuccess
+rv
+rv
+nscomptr
+nsistringbundleservice
+bundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsistringbundle
+bundle
+rv
+bundleservice
+createbundle
+newsmsgsurl
+getteraddrefs
+bundle
+nsensuresuccess
+rv
+rv
+nsautostring
+groupstr
+groupstr
+assignwithconversion
+aname
+nsxpidlcstring
+hostname
+rv
+gethostname
+gettercopies
+hostname
+nsensuresuccess
+rv
+rv
+nsautostring
+hoststr
+hoststr
+assignwithconversion
+hostname
+get
+prunichar
+formatstrings
+groupstr
+get
+hoststr
+get
+nsxpidlstring
+confirmtext
+rv
+bundle
+formatstringfromname
+nsliteralstring
+autounsubscribetext
+get
+formatstrings
+gettercopies
+confirmtext
+nsensuresuccess
+rv
+rv
+prbool
+confirmresult
+prfalse
+rv
+prompt
+confirm
+nsnull
+confirmtext
+confirmresult
+nsensuresuccess
+rv
+rv
+confirmresult
+rv
+unsubscribe
+groupstr
+get
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsnntpincomingserver
+setprettynameforgroup
+name
+prettyname
+nsassertion
+implemented
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+getcansearchmessages
+prbool
+cansearchmessages
+nsensureargpointer
+cansearchmessages
+cansearchmessages
+prtrue
+nsok
+nsimethodimp
+nsnntpincomingserver
+getofflinesupportlevel
+print
+asupportlevel
+nsensureargpointer
+asupportlevel
+nsresult
+rv
+rv
+getintvalue
+offlinesupportlevel
+asupportlevel
+asupportlevel
+offlinesupportlevelundefined
+rv
+asupportlevel
+offlinesupportlevelextended
+nsok
+nsimethodimp
+nsnntpincomingserver
+getdefaultcopiesandfoldersprefstoserver
+prbool
+acopiesandfoldersonserver
+nsensureargpointer
+acopiesandfoldersonserver
+acopiesandfoldersonserver
+prfalse
+nsok
+nsimethodimp
+nsnntpincomingserver
+getcancreatefoldersonserver
+prbool
+acancreatefoldersonserver
+nsensureargpointer
+acancreatefoldersonserver
+acancreatefoldersonserver
+prfalse
+nsok
+prbool
+buildsubscribesearchresult
+nscstring
+aelement
+adata
+nsresult
+rv
+nsok
+nsnntpincomingserver
+server
+server
+nsnntpincomingserver
+adata
+nsassertion
+server
+no
+server
+server
+prfalse
+rv
+server
+appendifsearchmatch
+aelement
+get
+nsassertion
+nssucceeded
+rv
+addsubscribesearchresult
+failed
+prtrue
+nsresult
+nsnntpincomingserver
+appendifsearchmatch
+newsgroupname
+nscautostring
+lowercasename
+newsgroupname
+tolowercase
+lowercasename
+plstrstr
+lowercasename
+get
+msearchvalue
+get
+msubscribesearchresult
+appendcstring
+nscautostring
+newsgroupname
+nsok
+nsimethodimp
+nsnntpincomingserver
+setsearchvalue
+searchvalue
+msearchvalue
+searchvalue
+tolowercase
+msearchvalue
+print
+oldcount
+msubscribesearchresult
+count
+msubscribesearchresult
+clear
+mgroupsonserver
+enumerateforwards
+nscstringarrayenumfunc
+buildsubscribesearchresult
+print
+newcount
+msubscribesearchresult
+count
+mtree
+mtree
+rowcountchanged
+oldcount
+newcount
+mtree
+invalidate
+mtree
+invalidatescrollbar
+nsok
+nsimethodimp
+nsnntpincomingserver
+getsupportssubscribesearch
+prbool
+retval
+retval
+prtrue
+nsok
+nsimethodimp
+nsnntpincomingserver
+getrowcount
+print
+arowcount
+arowcount
+msubscribesearchresult
+count
+nsok
+nsimethodimp
+nsnntpincomingserver
+getselection
+nsitreeselection
+aselection
+aselection
+mtreeselection
+nsifaddref
+aselection
+nsok
+nsimethodimp
+nsnntpincomingserver
+setselection
+nsitreeselection
+aselection
+mtreeselection
+aselection
+nsok
+nsimethodimp
+nsnntpincomingserver
+getrowproperties
+print
+index
+nsisupportsarray
+properties
+nsok
+nsimethodimp
+nsnntpincomingserver
+getcellproperties
+print
+row
+prunichar
+colid
+nsisupportsarray
+properties
+isvalidrow
+row
+nserrorunexpected
+colid
+nscstring
+name
+msubscribesearchresult
+cstringat
+row
+name
+mtempsubscribed
+indexof
+name
+properties
+appendelement
+msubscribedatom
+colid
+properties
+appendelement
+mnntpatom
+nsok
+nsimethodimp
+nsnntpincomingserver
+getcolumnproperties
+prunichar
+colid
+nsidomelement
+colelt
+nsisupportsarray
+properties
+nsok
+nsimethodimp
+nsnntpincomingserver
+iscontainer
+print
+index
+prbool
+retval
+retval
+prfalse
+nsok
+nsimethodimp
+nsnntpincomingserver
+iscontaineropen
+print
+index
+prbool
+retval
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+iscontainerempty
+print
+index
+prbool
+retval
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+isseparator
+print
+index
+prbool
+retval
+retval
+prfalse
+nsok
+nsimethodimp
+nsnntpincomingserver
+issorted
+prbool
+retval
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+candropon
+print
+index
+prbool
+retval
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+candropbeforeafter
+print
+index
+prbool
+before
+prbool
+retval
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+drop
+print
+row
+print
+orientation
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+getparentindex
+print
+rowindex
+print
+retval
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+hasnextsibling
+print
+rowindex
+print
+afterindex
+prbool
+retval
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+getlevel
+print
+index
+print
+retval
+retval
+nsok
+nsresult
+nsnntpincomingserver
+isvalidrow
+print
+row
+row
+row
+msubscribesearchresult
+count
+nsimethodimp
+nsnntpincomingserver
+getimagesrc
+print
+row
+prunichar
+colid
+nsastring
+retval
+nsok
+nsimethodimp
+nsnntpincomingserver
+getprogressmode
+print
+row
+prunichar
+colid
+print
+retval
+nsok
+nsimethodimp
+nsnntpincomingserver
+getcellvalue
+print
+row
+prunichar
+colid
+nsastring
+retval
+nsok
+nsimethodimp
+nsnntpincomingserver
+getcelltext
+print
+row
+prunichar
+colid
+nsastring
+retval
+isvalidrow
+row
+nserrorunexpected
+colid
+nscstring
+str
+msubscribesearchresult
+cstringat
+row
+str
+nsxpidlstring
+celltext
+nsresult
+rv
+nsmsgdecodeunescapeurlpath
+str
+get
+gettercopies
+celltext
+retval
+assign
+celltext
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsnntpincomingserver
+settree
+nsitreeboxobject
+tree
+mtree
+tree
+nsok
+nsimethodimp
+nsnntpincomingserver
+toggleopenstate
+print
+index
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+cycleheader
+prunichar
+colid
+nsidomelement
+elt
+nsok
+nsimethodimp
+nsnntpincomingserver
+selectionchanged
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+cyclecell
+print
+row
+prunichar
+colid
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+iseditable
+print
+row
+prunichar
+colid
+prbool
+retval
+retval
+prfalse
+nsok
+nsimethodimp
+nsnntpincomingserver
+setcelltext
+print
+row
+prunichar
+colid
+prunichar
+value
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+performaction
+prunichar
+action
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+performactiononrow
+prunichar
+action
+print
+row
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+performactiononcell
+prunichar
+action
+print
+row
+prunichar
+colid
+nserrornotimplemented
+nsimethodimp
+nsnntpincomingserver
+getcanfilemessagesonserver
+prbool
+acanfilemessagesonserver
+nsensureargpointer
+acanfilemessagesonserver
+acanfilemessagesonserver
+prfalse
+nsok
+nsimethodimp
+nsnntpincomingserver
+getfilterscope
+nsmsgsearchscopevalue
+filterscope
+nsensureargpointer
+filterscope
+filterscope
+nsmsgsearchscope
+newsfilter
+nsok
+nsimethodimp
+nsnntpincomingserver
+getsearchscope
+nsmsgsearchscopevalue
+searchscope
+nsensureargpointer
+searchscope
+weareoffline
+searchscope
+nsmsgsearchscope
+localnews
+searchscope
+nsmsgsearchscope
+news
+nsok
+nsimethodimp
+nsnntpincomingserver
+onuserorhostnamechanged
+oldname
+newname
+nsresult
+rv
+rv
+nsmsgincomingserver
+onuserorhostnamechanged
+oldname
+newname
+nsensuresuccess
+rv
+rv
+nscomptr
+nsifilespec
+hostinfofile
+rv
+getlocalpath
+getteraddrefs
+hostinfofile
+nsensuresuccess
+rv
+rv
+rv
+hostinfofile
+appendrelativeunixpath
+hostinfofilename
+nsensuresuccess
+rv
+rv
+hostinfofile
+delete
+prfalse
+nscomptr
+nsienumerator
+subfolders
+nscomptr
+nsimsgfolder
+serverfolder
+rv
+getrootmsgfolder
+getteraddrefs
+serverfolder
+nsensuresuccess
+rv
+rv
+rv
+serverfolder
+getsubfolders
+getteraddrefs
+subfolders
+nsensuresuccess
+rv
+rv
+nsstringarray
+grouplist
+nsxpidlstring
+foldername
+nscomptr
+nsisupports
+aitem
+nscomptr
+nsimsgfolder
+newsgroupfolder
+subfolders
+isdone
+nsok
+rv
+subfolders
+currentitem
+getteraddrefs
+aitem
+nsensuresuccess
+rv
+rv
+newsgroupfolder
+doqueryinterface
+aitem
+rv
+nsensuresuccess
+rv
+rv
+rv
+newsgroupfolder
+getname
+gettercopies
+foldername
+nsensuresuccess
+rv
+rv
+grouplist
+appendstring
+foldername
+nssucceeded
+subfolders
+next
+grouplist
+count
+nsok
+cnt
+grouplist
+count
+nsautostring
+groupstr
+nscautostring
+cname
+cnt
+grouplist
+stringat
+groupstr
+rv
+unsubscribe
+groupstr
+get
+nsensuresuccess
+rv
+rv
+cnt
+grouplist
+stringat
+groupstr
+cname
+assignwithconversion
+groupstr
+get
+rv
+subscribetonewsgroup
+cname
+get
+nsensuresuccess
+rv
+rv
+grouplist
+clear
+rv
+commitsubscribechanges
+rv
\ No newline at end of file
@@ -0,0 +1,404 @@
+nsifactory
+nsisupports
+nsigenericfactory
+nsimodule
+nsabbasecid
+pratom
+nsicomponentmanager
+nsiservicemanager
+rdf
+nscrt
+nscomptr
+nsdirectorydatasource
+nsabbsdirectory
+nsabmdbdirectory
+nsabmdbcard
+nsabdirfactoryservice
+nsabmdbdirfactory
+nsaddrdatabase
+nsaddressbook
+nsaddrbooksession
+nsabdirproperty
+nsabautocompletesession
+nsabaddresscollecter
+nsaddbookprotocolhandler
+nsaddbookurl
+defined
+xpwin
+defined
+mingw
+nsaboutlookdirectory
+nsaboutlookcard
+nsaboutlookdirfactory
+endif
+nsabdirectoryquery
+nsabbooleanexpression
+nsabdirectoryqueryproxy
+nsabview
+defined
+mozldapxpcom
+nsabldapdirectory
+nsabldapcard
+nsabldapdirfactory
+nsabldapautocompformatter
+nsabldapreplicationservice
+nsabldapreplicationquery
+nsabldapreplicationdata
+nsabldapchangelogquery
+nsabldapchangelogdata
+endif
+nsgenericfactoryconstructor
+nsaddressbook
+nsgenericfactoryconstructorinit
+nsabdirectorydatasource
+init
+nsgenericfactoryconstructor
+nsabdirproperty
+nsgenericfactoryconstructor
+nsabdirectoryproperties
+nsgenericfactoryconstructor
+nsabcardproperty
+nsgenericfactoryconstructor
+nsabbsdirectory
+nsgenericfactoryconstructor
+nsabmdbdirectory
+nsgenericfactoryconstructor
+nsabmdbcard
+nsgenericfactoryconstructor
+nsaddrdatabase
+nsgenericfactoryconstructor
+nsaddrbooksession
+nsgenericfactoryconstructor
+nsabautocompletesession
+nsgenericfactoryconstructorinit
+nsabaddresscollecter
+init
+nsgenericfactoryconstructor
+nsaddbookurl
+nsgenericfactoryconstructor
+nsabdirfactoryservice
+nsgenericfactoryconstructor
+nsabmdbdirfactory
+nsgenericfactoryconstructor
+nsaddbookprotocolhandler
+defined
+xpwin
+defined
+mingw
+nsgenericfactoryconstructor
+nsaboutlookdirectory
+nsgenericfactoryconstructor
+nsaboutlookcard
+nsgenericfactoryconstructor
+nsaboutlookdirfactory
+endif
+nsgenericfactoryconstructor
+nsabdirectoryqueryarguments
+nsgenericfactoryconstructor
+nsabbooleanconditionstring
+nsgenericfactoryconstructor
+nsabbooleanexpression
+defined
+mozldapxpcom
+nsgenericfactoryconstructor
+nsabldapdirectory
+nsgenericfactoryconstructor
+nsabldapcard
+nsgenericfactoryconstructor
+nsabldapdirfactory
+nsgenericfactoryconstructor
+nsabldapautocompformatter
+nsgenericfactoryconstructor
+nsabldapreplicationservice
+nsgenericfactoryconstructor
+nsabldapreplicationquery
+nsgenericfactoryconstructor
+nsabldapprocessreplicationdata
+nsgenericfactoryconstructor
+nsabldapchangelogquery
+nsgenericfactoryconstructor
+nsabldapprocesschangelogdata
+endif
+nsgenericfactoryconstructor
+nsabdirectoryqueryproxy
+nsgenericfactoryconstructor
+nsabview
+nsmodulecomponentinfo
+components
+address
+book
+nsaddressbookcid
+nsaddressbookcontractid
+nsaddressbookconstructor
+address
+book
+startup
+handler
+nsaddressbookcid
+nsaddressbookstartuphandlercontractid
+nsaddressbookconstructor
+nsaddressbook
+registerproc
+nsaddressbook
+unregisterproc
+address
+book
+directory
+datasource
+nsabdirectorydatasourcecid
+nsabdirectorydatasourcecontractid
+nsabdirectorydatasourceconstructor
+address
+boot
+strap
+directory
+nsabdirectorycid
+nsabdirectorycontractid
+nsabbsdirectoryconstructor
+address
+mdb
+book
+directory
+nsabmdbdirectorycid
+nsabmdbdirectorycontractid
+nsabmdbdirectoryconstructor
+address
+mdb
+book
+card
+nsabmdbcardcid
+nsabmdbcardcontractid
+nsabmdbcardconstructor
+address
+database
+nsaddrdatabasecid
+nsaddrdatabasecontractid
+nsaddrdatabaseconstructor
+address
+book
+card
+property
+nsabcardpropertycid
+nsabcardpropertycontractid
+nsabcardpropertyconstructor
+address
+book
+directory
+property
+nsabdirpropertycid
+nsabdirpropertycontractid
+nsabdirpropertyconstructor
+ab
+directory
+properties
+nsabdirectorypropertiescid
+nsabdirectorypropertiescontractid
+nsabdirectorypropertiesconstructor
+address
+book
+session
+nsaddrbooksessioncid
+nsaddrbooksessioncontractid
+nsaddrbooksessionconstructor
+address
+book
+auto
+complete
+session
+nsabautocompletesessioncid
+nsabautocompletesessioncontractid
+nsabautocompletesessionconstructor
+address
+book
+address
+collector
+nsabaddresscollectercid
+nsabaddresscollectercontractid
+nsabaddresscollecterconstructor
+the
+addbook
+url
+interface
+nsaddbookurlcid
+nsaddbookurlcontractid
+nsaddbookurlconstructor
+the
+addbook
+protocol
+handler
+nsaddbookhandlercid
+nsnetworkprotocolcontractidprefix
+addbook
+nsaddbookprotocolhandlerconstructor
+the
+directory
+factory
+service
+nsabdirfactoryservicecid
+nsabdirfactoryservicecontractid
+nsabdirfactoryserviceconstructor
+the
+mdb
+directory
+factory
+nsabmdbdirfactorycid
+nsabmdbdirfactorycontractid
+nsabmdbdirfactoryconstructor
+defined
+xpwin
+defined
+mingw
+address
+outlook
+book
+directory
+nsaboutlookdirectorycid
+nsaboutlookdirectorycontractid
+nsaboutlookdirectoryconstructor
+address
+outlook
+book
+card
+nsaboutlookcardcid
+nsaboutlookcardcontractid
+nsaboutlookcardconstructor
+the
+outlook
+factory
+interface
+nsaboutlookdirfactorycid
+nsaboutlookdirfactorycontractid
+nsaboutlookdirfactoryconstructor
+endif
+the
+addbook
+query
+arguments
+nsabdirectoryqueryargumentscid
+nsabdirectoryqueryargumentscontractid
+nsabdirectoryqueryargumentsconstructor
+the
+query
+condition
+nsbooleanconditionstringcid
+nsbooleanconditionstringcontractid
+nsabbooleanconditionstringconstructor
+the
+query
+peer
+expression
+nsbooleanexpressioncid
+nsbooleanexpressioncontractid
+nsabbooleanexpressionconstructor
+defined
+mozldapxpcom
+address
+ldap
+book
+directory
+nsabldapdirectorycid
+nsabldapdirectorycontractid
+nsabldapdirectoryconstructor
+address
+ldap
+book
+card
+nsabldapcardcid
+nsabldapcardcontractid
+nsabldapcardconstructor
+address
+ldap
+factory
+interface
+nsabldapdirfactorycid
+nsabldapdirfactorycontractid
+nsabldapdirfactoryconstructor
+address
+ldap
+replication
+service
+interface
+nsabldapreplicationservicecid
+nsabldapreplicationservicecontractid
+nsabldapreplicationserviceconstructor
+address
+ldap
+replication
+query
+interface
+nsabldapreplicationquerycid
+nsabldapreplicationquerycontractid
+nsabldapreplicationqueryconstructor
+address
+ldap
+replication
+processor
+interface
+nsabldapprocessreplicationdatacid
+nsabldapprocessreplicationdatacontractid
+nsabldapprocessreplicationdataconstructor
+address
+ldap
+changelog
+query
+interface
+nsabldapchangelogquerycid
+nsabldapchangelogquerycontractid
+nsabldapchangelogqueryconstructor
+address
+ldap
+changelog
+processor
+interface
+nsabldapprocesschangelogdatacid
+nsabldapprocesschangelogdatacontractid
+nsabldapprocesschangelogdataconstructor
+address
+ldap
+autocomplete
+factory
+interface
+nsabldapdirfactorycid
+nsabldapacdirfactorycontractid
+nsabldapdirfactoryconstructor
+address
+ldap
+over
+ssl
+autocomplete
+factory
+interface
+nsabldapdirfactorycid
+nsabldapsacdirfactorycontractid
+nsabldapdirfactoryconstructor
+address
+book
+ldap
+autocomplete
+formatter
+nsabldapautocompformattercid
+nsabldapautocompformattercontractid
+nsabldapautocompformatterconstructor
+endif
+the
+directory
+query
+proxy
+nsabdirectoryqueryproxycid
+nsabdirectoryqueryproxycontractid
+nsabdirectoryqueryproxyconstructor
+addressbook
+view
+nsabviewcid
+nsabviewcontractid
+nsabviewconstructor
+prstaticcallback
+msgabmoduledtor
+nsimodule
+self
+nsaddrdatabase
+cleanupcache
+nsimplnsgetmodulewithdtor
+nsabmodule
+components
+msgabmoduledtor
\ No newline at end of file
@@ -0,0 +1,605 @@
+msgcore
+nsiservicemanager
+nsiabcard
+nsabbasecid
+nsabaddresscollecter
+nsipref
+nsiaddrbooksession
+nsimsgheaderparser
+nsirdfservice
+nsrdfcid
+nsxpidlstring
+nsreadableutils
+prmem
+nsiaddressbook
+nsimplisupports
+nsabaddresscollecter
+nsiabaddresscollecter
+define
+prefmailcollectaddressbook
+mail
+collectaddressbook
+nsabaddresscollecter
+nsabaddresscollecter
+nsabaddresscollecter
+nsabaddresscollecter
+mdatabase
+mdatabase
+commit
+nsaddrdbcommittype
+ksessioncommit
+mdatabase
+close
+prfalse
+mdatabase
+nsnull
+nsimethodimp
+nsabaddresscollecter
+collectunicodeaddress
+prunichar
+aaddress
+prbool
+acreatecard
+nsensureargpointer
+aaddress
+nsresult
+rv
+collectaddress
+nsconvertucstoutf
+aaddress
+get
+acreatecard
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsabaddresscollecter
+getcardfromattribute
+aname
+avalue
+nsiabcard
+acard
+nsensureargpointer
+acard
+mdatabase
+getcardfromattribute
+mdirectory
+aname
+avalue
+prfalse
+acard
+nsimethodimp
+nsabaddresscollecter
+collectaddress
+address
+prbool
+acreatecard
+pruint
+numaddresses
+names
+addresses
+nsresult
+rv
+nscomptr
+nsimsgheaderparser
+pheader
+dogetservice
+nsmailnewsmimeheaderparsercontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+pheader
+parseheaderaddresses
+nsnull
+address
+names
+addresses
+numaddresses
+nsassertion
+nssucceeded
+rv
+failed
+to
+parse
+so
+can
+collect
+nsfailed
+rv
+nsok
+curname
+names
+curaddress
+addresses
+excludedomainlist
+nsnull
+pruint
+numaddresses
+nscomptr
+nsiabcard
+existingcard
+nscomptr
+nsiabcard
+cardinstance
+rv
+getcardfromattribute
+kpriemailcolumn
+curaddress
+getteraddrefs
+existingcard
+existingcard
+acreatecard
+nscomptr
+nsiabcard
+sendercard
+docreateinstance
+nsabcardpropertycontractid
+rv
+nssucceeded
+rv
+sendercard
+prbool
+modifiedcard
+curname
+curname
+rv
+setnamesforcard
+sendercard
+curname
+modifiedcard
+nsassertion
+nssucceeded
+rv
+failed
+to
+set
+names
+rv
+autocollectscreenname
+sendercard
+curaddress
+modifiedcard
+nsassertion
+nssucceeded
+rv
+failed
+to
+set
+screenname
+rv
+sendercard
+setprimaryemail
+nsconvertasciitoucs
+curaddress
+get
+nsassertion
+nssucceeded
+rv
+failed
+to
+set
+email
+rv
+addcardtoaddressbook
+sendercard
+nsassertion
+nssucceeded
+rv
+failed
+to
+add
+card
+existingcard
+prbool
+setnames
+rv
+setnamesforcard
+existingcard
+curname
+setnames
+nsassertion
+nssucceeded
+rv
+failed
+to
+set
+names
+prbool
+setscreenname
+rv
+autocollectscreenname
+existingcard
+curaddress
+setscreenname
+nsassertion
+nssucceeded
+rv
+failed
+to
+set
+screen
+name
+setscreenname
+setnames
+existingcard
+editcardtodatabase
+maburi
+get
+curname
+strlen
+curname
+curaddress
+strlen
+curaddress
+prfreeif
+addresses
+prfreeif
+names
+prfreeif
+excludedomainlist
+nsok
+nsresult
+nsabaddresscollecter
+autocollectscreenname
+nsiabcard
+acard
+aemail
+prbool
+amodifiedcard
+nsensureargpointer
+acard
+nsensureargpointer
+aemail
+nsensureargpointer
+amodifiedcard
+amodifiedcard
+prfalse
+nsxpidlstring
+screenname
+nsresult
+rv
+acard
+getaimscreenname
+gettercopies
+screenname
+nsensuresuccess
+rv
+rv
+screenname
+isempty
+nsok
+atpos
+strchr
+aemail
+atpos
+nsok
+domain
+atpos
+domain
+nsok
+strcmp
+domain
+aol
+strcmp
+domain
+cs
+strcmp
+domain
+netscape
+net
+nsok
+nsautostring
+username
+nsconvertasciitoucs
+aemail
+get
+username
+setlength
+atpos
+aemail
+rv
+acard
+setaimscreenname
+username
+get
+nsensuresuccess
+rv
+rv
+amodifiedcard
+prtrue
+rv
+nsresult
+nsabaddresscollecter
+setnamesforcard
+nsiabcard
+sendercard
+fullname
+prbool
+amodifiedcard
+firstname
+nsnull
+lastname
+nsnull
+amodifiedcard
+prfalse
+nsxpidlstring
+displayname
+nsresult
+rv
+sendercard
+getdisplayname
+gettercopies
+displayname
+nsensuresuccess
+rv
+rv
+displayname
+isempty
+nsok
+sendercard
+setdisplayname
+nsconvertutftoucs
+fullname
+get
+amodifiedcard
+prtrue
+rv
+splitfullname
+fullname
+firstname
+lastname
+nssucceeded
+rv
+sendercard
+setfirstname
+nsconvertutftoucs
+firstname
+get
+lastname
+sendercard
+setlastname
+nsconvertutftoucs
+lastname
+get
+prfreeif
+firstname
+prfreeif
+lastname
+rv
+nsresult
+nsabaddresscollecter
+splitfullname
+fullname
+firstname
+lastname
+fullname
+firstname
+nscrt
+strdup
+fullname
+firstname
+nserroroutofmemory
+plastspace
+firstname
+walkname
+firstname
+plastname
+nsnull
+walkname
+walkname
+walkname
+plastspace
+walkname
+plastname
+plastspace
+walkname
+plastname
+plastspace
+lastname
+nscrt
+strdup
+plastname
+nsok
+prcallback
+nsabaddresscollecter
+collectaddressbookprefchanged
+anewpref
+adata
+nsresult
+rv
+nsabaddresscollecter
+adcol
+nsabaddresscollecter
+adata
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+rv
+nsassertion
+nssucceeded
+rv
+failed
+to
+get
+prefs
+nsxpidlcstring
+prefval
+rv
+ppref
+getcharpref
+prefmailcollectaddressbook
+gettercopies
+prefval
+rv
+adcol
+setaburi
+nsfailed
+rv
+prefval
+isempty
+kpersonaladdressbookuri
+prefval
+get
+nsassertion
+nssucceeded
+rv
+failed
+to
+change
+collected
+ab
+nsresult
+nsabaddresscollecter
+init
+nsresult
+rv
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+ppref
+registercallback
+prefmailcollectaddressbook
+collectaddressbookprefchanged
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+prefval
+rv
+ppref
+getcharpref
+prefmailcollectaddressbook
+gettercopies
+prefval
+rv
+setaburi
+nsfailed
+rv
+prefval
+isempty
+kpersonaladdressbookuri
+prefval
+get
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsabaddresscollecter
+addcardtoaddressbook
+nsiabcard
+card
+nsensureargpointer
+card
+nscomptr
+nsiabcard
+addedcard
+nsresult
+rv
+mdirectory
+addcard
+card
+getteraddrefs
+addedcard
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsabaddresscollecter
+setaburi
+auri
+nsensureargpointer
+auri
+strcmp
+auri
+maburi
+get
+nsok
+mdatabase
+mdatabase
+commit
+nsaddrdbcommittype
+ksessioncommit
+mdatabase
+close
+prfalse
+mdatabase
+nsnull
+mdirectory
+nsnull
+maburi
+auri
+nsresult
+rv
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiaddressbook
+addressbook
+dogetservice
+nsaddressbookcontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+addressbook
+getabdatabasefromuri
+maburi
+get
+getteraddrefs
+mdatabase
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfservice
+rdfservice
+dogetservice
+rdf
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+resource
+rv
+rdfservice
+getresource
+maburi
+getteraddrefs
+resource
+nsensuresuccess
+rv
+rv
+mdirectory
+doqueryinterface
+resource
+rv
+nsensuresuccess
+rv
+rv
+rv
\ No newline at end of file
@@ -0,0 +1,144 @@
+nsabbooleanexpression
+nsreadableutils
+nsimplthreadsafeisupports
+nsabbooleanconditionstring
+nsiabbooleanconditionstring
+nsabbooleanconditionstring
+nsabbooleanconditionstring
+mcondition
+nsiabbooleanconditiontypes
+exists
+nsabbooleanconditionstring
+nsabbooleanconditionstring
+nsimethodimp
+nsabbooleanconditionstring
+getcondition
+nsabbooleanconditiontype
+acondition
+acondition
+nserrornullpointer
+acondition
+mcondition
+nsok
+nsimethodimp
+nsabbooleanconditionstring
+setcondition
+nsabbooleanconditiontype
+acondition
+mcondition
+acondition
+nsok
+nsimethodimp
+nsabbooleanconditionstring
+getname
+aname
+aname
+nserrornullpointer
+value
+mname
+get
+value
+aname
+aname
+tonewcstring
+mname
+nsok
+nsimethodimp
+nsabbooleanconditionstring
+setname
+aname
+aname
+nserrornullpointer
+mname
+aname
+nsok
+nsimethodimp
+nsabbooleanconditionstring
+getvalue
+prunichar
+avalue
+avalue
+nserrornullpointer
+avalue
+tonewunicode
+mvalue
+nsok
+nsimethodimp
+nsabbooleanconditionstring
+setvalue
+prunichar
+avalue
+avalue
+nserrornullpointer
+mvalue
+avalue
+nsok
+nsimplthreadsafeisupports
+nsabbooleanexpression
+nsiabbooleanexpression
+nsabbooleanexpression
+nsabbooleanexpression
+moperation
+nsiabbooleanoperationtypes
+and
+nsabbooleanexpression
+nsabbooleanexpression
+nsimethodimp
+nsabbooleanexpression
+getoperation
+nsabbooleanoperationtype
+aoperation
+aoperation
+nserrornullpointer
+aoperation
+moperation
+nsok
+nsimethodimp
+nsabbooleanexpression
+setoperation
+nsabbooleanoperationtype
+aoperation
+moperation
+aoperation
+nsok
+nsimethodimp
+nsabbooleanexpression
+getexpressions
+nsisupportsarray
+aexpressions
+aexpressions
+nserrornullpointer
+mexpressions
+nsnewisupportsarray
+getteraddrefs
+mexpressions
+nsifaddref
+aexpressions
+mexpressions
+nsok
+nsimethodimp
+nsabbooleanexpression
+setexpressions
+nsisupportsarray
+aexpressions
+aexpressions
+nserrornullpointer
+mexpressions
+aexpressions
+nsok
+nsimethodimp
+nsabbooleanexpression
+asetexpressions
+pruint
+aexpressionssize
+nsisupports
+aexpressionsarray
+nserrornotimplemented
+nsimethodimp
+nsabbooleanexpression
+agetexpressions
+pruint
+aexpressionssize
+nsisupports
+aexpressionsarray
+nserrornotimplemented
\ No newline at end of file
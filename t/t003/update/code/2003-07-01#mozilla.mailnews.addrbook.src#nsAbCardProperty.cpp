@@ -0,0 +1,3102 @@
+nsabcardproperty
+nsiservicemanager
+nsxpidlstring
+nsabbasecid
+nscomptr
+nsreadableutils
+nsunicharutils
+nsipref
+nsiabdirectory
+plbase
+nsiaddrbooksession
+nsistringbundle
+nsirdfresource
+nsirdfservice
+nsrdfcid
+mozitxttohtmlconv
+define
+prefmailaddrbooklastnamefirst
+mail
+addrbook
+lastnamefirst
+saddrbookproperties
+messenger
+locale
+addressbook
+addressbook
+properties
+appenditem
+nsresult
+appendcallback
+nsabcardproperty
+acard
+appenditem
+aitem
+mozitxttohtmlconv
+aconv
+nsstring
+aresult
+appenditem
+mcolumn
+mlabel
+appendcallback
+mcallback
+nsresult
+appendline
+nsabcardproperty
+acard
+appenditem
+aitem
+mozitxttohtmlconv
+aconv
+nsstring
+aresult
+nsresult
+appendlabel
+nsabcardproperty
+acard
+appenditem
+aitem
+mozitxttohtmlconv
+aconv
+nsstring
+aresult
+nsresult
+appendcitystatezip
+nsabcardproperty
+acard
+appenditem
+aitem
+mozitxttohtmlconv
+aconv
+nsstring
+aresult
+appenditem
+nameattrsarray
+kdisplaynamecolumn
+propertydisplayname
+appendlabel
+knicknamecolumn
+propertynickname
+appendlabel
+kpriemailcolumn
+appendline
+kndemailcolumn
+appendline
+kaimscreennamecolumn
+propertyscreenname
+appendlabel
+appenditem
+phoneattrsarray
+kworkphonecolumn
+propertywork
+appendlabel
+khomephonecolumn
+propertyhome
+appendlabel
+kfaxcolumn
+propertyfax
+appendlabel
+kpagercolumn
+propertypager
+appendlabel
+kcellularcolumn
+propertycellular
+appendlabel
+appenditem
+homeattrsarray
+khomeaddresscolumn
+appendline
+khomeaddresscolumn
+appendline
+khomecitycolumn
+appendcitystatezip
+khomecountrycolumn
+appendline
+kwebpagecolumn
+appendline
+appenditem
+workattrsarray
+kjobtitlecolumn
+appendline
+kdepartmentcolumn
+appendline
+kcompanycolumn
+appendline
+kworkaddresscolumn
+appendline
+kworkaddresscolumn
+appendline
+kworkcitycolumn
+appendcitystatezip
+kworkcountrycolumn
+appendline
+kwebpagecolumn
+appendline
+appenditem
+customattrsarray
+kcustomcolumn
+propertycustom
+appendlabel
+kcustomcolumn
+propertycustom
+appendlabel
+kcustomcolumn
+propertycustom
+appendlabel
+kcustomcolumn
+propertycustom
+appendlabel
+knotescolumn
+appendline
+nsabcardproperty
+nsabcardproperty
+mlastmoddate
+mprefermailformat
+nsiabprefermailformat
+unknown
+mismaillist
+prfalse
+nsabcardproperty
+nsabcardproperty
+nsimplisupports
+nsabcardproperty
+nsiabcard
+nsresult
+nsabcardproperty
+getcardtypefromstring
+acardtypestr
+prbool
+aemptyistrue
+prbool
+avalue
+nsensureargpointer
+acardtypestr
+nsensureargpointer
+avalue
+avalue
+prfalse
+nsxpidlstring
+cardtype
+nsresult
+rv
+getcardtype
+gettercopies
+cardtype
+nsensuresuccess
+rv
+rv
+avalue
+aemptyistrue
+cardtype
+isempty
+cardtype
+equals
+nsconvertasciitoucs
+acardtypestr
+nsok
+nsimethodimp
+nsabcardproperty
+getisanormalcard
+prbool
+aisnormal
+getcardtypefromstring
+abcardisnormalcard
+prtrue
+aisnormal
+nsimethodimp
+nsabcardproperty
+getisaspecialgroup
+prbool
+aisspecailgroup
+getcardtypefromstring
+abcardisaolgroups
+prfalse
+aisspecailgroup
+nsimethodimp
+nsabcardproperty
+getisanemailaddress
+prbool
+aisemailaddress
+getcardtypefromstring
+abcardisaoladditionalemail
+prfalse
+aisemailaddress
+nsresult
+nsabcardproperty
+getattributename
+prunichar
+aname
+nsstring
+value
+aname
+aname
+tonewunicode
+value
+aname
+nserroroutofmemory
+nsok
+nserrornullpointer
+nsresult
+nsabcardproperty
+setattributename
+prunichar
+aname
+nsstring
+arrtibute
+aname
+arrtibute
+aname
+nsok
+nsimethodimp
+nsabcardproperty
+getprefermailformat
+pruint
+aformat
+aformat
+mprefermailformat
+nsok
+nsimethodimp
+nsabcardproperty
+setprefermailformat
+pruint
+aformat
+mprefermailformat
+aformat
+nsok
+nsimethodimp
+nsabcardproperty
+getismaillist
+prbool
+aismaillist
+aismaillist
+mismaillist
+nsok
+nsimethodimp
+nsabcardproperty
+setismaillist
+prbool
+aismaillist
+mismaillist
+aismaillist
+nsok
+nsimethodimp
+nsabcardproperty
+getmaillisturi
+amaillisturi
+amaillisturi
+amaillisturi
+tonewcstring
+mmaillisturi
+amaillisturi
+nsok
+nserroroutofmemory
+nserrornullpointer
+nsimethodimp
+nsabcardproperty
+setmaillisturi
+amaillisturi
+amaillisturi
+mmaillisturi
+amaillisturi
+nsok
+nserrornullpointer
+nsimethodimp
+nsabcardproperty
+getcardvalue
+attrname
+prunichar
+value
+nsensureargpointer
+attrname
+nsensureargpointer
+value
+nsresult
+rv
+nsok
+attrname
+rv
+getaimscreenname
+value
+attrname
+rv
+getanniversaryyear
+value
+rv
+getanniversarymonth
+value
+rv
+getanniversaryday
+value
+rv
+nserrorunexpected
+attrname
+rv
+getbirthyear
+value
+rv
+getbirthmonth
+value
+rv
+getbirthday
+value
+rv
+nserrorunexpected
+attrname
+rv
+getcompany
+value
+attrname
+rv
+getcategory
+value
+rv
+getcardtype
+value
+strlen
+attrname
+rv
+getcellularnumber
+value
+rv
+getcellularnumbertype
+value
+attrname
+rv
+getcustom
+value
+rv
+getcustom
+value
+rv
+getcustom
+value
+rv
+getcustom
+value
+rv
+nserrorunexpected
+rv
+nserrorunexpected
+attrname
+rv
+getdisplayname
+value
+attrname
+attrname
+rv
+getdefaultemail
+value
+rv
+getdefaultaddress
+value
+rv
+getdepartment
+value
+attrname
+rv
+getfirstname
+value
+attrname
+strlen
+attrname
+rv
+getfaxnumber
+value
+rv
+getfaxnumbertype
+value
+rv
+getfamilyname
+value
+rv
+nserrorunexpected
+attrname
+attrname
+rv
+gethomeaddress
+value
+rv
+gethomeaddress
+value
+attrname
+rv
+gethomecity
+value
+rv
+gethomecountry
+value
+strlen
+attrname
+rv
+gethomephone
+value
+rv
+gethomephonetype
+value
+rv
+gethomestate
+value
+rv
+gethomezipcode
+value
+rv
+nserrorunexpected
+rv
+getjobtitle
+value
+attrname
+attrname
+rv
+getlastname
+value
+pruint
+lastmodifieddate
+rv
+getlastmodifieddate
+lastmodifieddate
+value
+nscrt
+strdup
+nsliteralstring
+get
+rv
+nserrorunexpected
+attrname
+rv
+getnotes
+value
+rv
+getnickname
+value
+attrname
+pruint
+format
+rv
+getprefermailformat
+format
+prunichar
+formatstr
+format
+nsiabprefermailformat
+html
+formatstr
+nsliteralstring
+html
+get
+nsiabprefermailformat
+plaintext
+formatstr
+nsliteralstring
+plaintext
+get
+nsiabprefermailformat
+unknown
+formatstr
+nsliteralstring
+unknown
+get
+value
+nscrt
+strdup
+formatstr
+strlen
+attrname
+rv
+getpagernumber
+value
+rv
+getpagernumbertype
+value
+rv
+getprimaryemail
+value
+attrname
+rv
+getphoneticlastname
+value
+attrname
+rv
+getphoneticfirstname
+value
+rv
+nserrorunexpected
+attrname
+rv
+getsecondemail
+value
+rv
+getspousename
+value
+attrname
+attrname
+rv
+getwebpage
+value
+rv
+getwebpage
+value
+attrname
+attrname
+rv
+getworkaddress
+value
+rv
+getworkaddress
+value
+attrname
+rv
+getworkcity
+value
+rv
+getworkcountry
+value
+strlen
+attrname
+rv
+getworkphone
+value
+rv
+getworkphonetype
+value
+rv
+getworkstate
+value
+rv
+getworkzipcode
+value
+rv
+nserrorunexpected
+rv
+nserrorunexpected
+rv
+nsimethodimp
+nsabcardproperty
+setcardvalue
+attrname
+prunichar
+value
+nsensureargpointer
+attrname
+nsensureargpointer
+value
+nsresult
+rv
+nsok
+attrname
+rv
+setaimscreenname
+value
+attrname
+rv
+setanniversaryyear
+value
+rv
+setanniversarymonth
+value
+rv
+setanniversaryday
+value
+rv
+nserrorunexpected
+attrname
+rv
+setbirthyear
+value
+rv
+setbirthmonth
+value
+rv
+setbirthday
+value
+rv
+nserrorunexpected
+attrname
+rv
+setcompany
+value
+attrname
+rv
+setcategory
+value
+rv
+setcardtype
+value
+strlen
+attrname
+rv
+setcellularnumber
+value
+rv
+setcellularnumbertype
+value
+attrname
+rv
+setcustom
+value
+rv
+setcustom
+value
+rv
+setcustom
+value
+rv
+setcustom
+value
+rv
+nserrorunexpected
+rv
+nserrorunexpected
+attrname
+rv
+setdisplayname
+value
+attrname
+attrname
+rv
+setdefaultemail
+value
+rv
+setdefaultaddress
+value
+rv
+setdepartment
+value
+attrname
+rv
+setfirstname
+value
+attrname
+strlen
+attrname
+rv
+setfaxnumber
+value
+rv
+setfaxnumbertype
+value
+rv
+setfamilyname
+value
+rv
+nserrorunexpected
+attrname
+attrname
+rv
+sethomeaddress
+value
+rv
+sethomeaddress
+value
+attrname
+rv
+sethomecity
+value
+rv
+sethomecountry
+value
+strlen
+attrname
+rv
+sethomephone
+value
+rv
+sethomephonetype
+value
+rv
+sethomestate
+value
+rv
+sethomezipcode
+value
+rv
+nserrorunexpected
+rv
+setjobtitle
+value
+attrname
+attrname
+rv
+setlastname
+value
+rv
+setlastmodifieddate
+rv
+nserrorunexpected
+attrname
+rv
+setnotes
+value
+rv
+setnickname
+value
+attrname
+value
+rv
+setprefermailformat
+nsiabprefermailformat
+html
+rv
+setprefermailformat
+nsiabprefermailformat
+plaintext
+rv
+setprefermailformat
+nsiabprefermailformat
+unknown
+strlen
+attrname
+rv
+setpagernumber
+value
+rv
+setpagernumbertype
+value
+rv
+setprimaryemail
+value
+attrname
+rv
+setphoneticlastname
+value
+attrname
+rv
+setphoneticfirstname
+value
+rv
+nserrorunexpected
+attrname
+rv
+setsecondemail
+value
+rv
+setspousename
+value
+attrname
+attrname
+rv
+setwebpage
+value
+rv
+setwebpage
+value
+attrname
+attrname
+rv
+setworkaddress
+value
+rv
+setworkaddress
+value
+attrname
+rv
+setworkcity
+value
+rv
+setworkcountry
+value
+strlen
+attrname
+rv
+setworkphone
+value
+rv
+setworkphonetype
+value
+rv
+setworkstate
+value
+rv
+setworkzipcode
+value
+rv
+nserrorunexpected
+rv
+nserrorunexpected
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsabcardproperty
+getfirstname
+prunichar
+afirstname
+getattributename
+afirstname
+mfirstname
+nsimethodimp
+nsabcardproperty
+getlastname
+prunichar
+alastname
+getattributename
+alastname
+mlastname
+nsimethodimp
+nsabcardproperty
+getphoneticfirstname
+prunichar
+aphoneticfirstname
+getattributename
+aphoneticfirstname
+mphoneticfirstname
+nsimethodimp
+nsabcardproperty
+getphoneticlastname
+prunichar
+aphoneticlastname
+getattributename
+aphoneticlastname
+mphoneticlastname
+nsimethodimp
+nsabcardproperty
+getdisplayname
+prunichar
+adisplayname
+getattributename
+adisplayname
+mdisplayname
+nsimethodimp
+nsabcardproperty
+getnickname
+prunichar
+anickname
+getattributename
+anickname
+mnickname
+nsimethodimp
+nsabcardproperty
+getprimaryemail
+prunichar
+aprimaryemail
+getattributename
+aprimaryemail
+mprimaryemail
+nsimethodimp
+nsabcardproperty
+getsecondemail
+prunichar
+asecondemail
+getattributename
+asecondemail
+msecondemail
+nsimethodimp
+nsabcardproperty
+getdefaultemail
+prunichar
+adefaultemail
+getattributename
+adefaultemail
+mdefaultemail
+nsimethodimp
+nsabcardproperty
+getcardtype
+prunichar
+acardtype
+getattributename
+acardtype
+mcardtype
+nsimethodimp
+nsabcardproperty
+getworkphone
+prunichar
+aworkphone
+getattributename
+aworkphone
+mworkphone
+nsimethodimp
+nsabcardproperty
+gethomephone
+prunichar
+ahomephone
+getattributename
+ahomephone
+mhomephone
+nsimethodimp
+nsabcardproperty
+getfaxnumber
+prunichar
+afaxnumber
+getattributename
+afaxnumber
+mfaxnumber
+nsimethodimp
+nsabcardproperty
+getpagernumber
+prunichar
+apagernumber
+getattributename
+apagernumber
+mpagernumber
+nsimethodimp
+nsabcardproperty
+getcellularnumber
+prunichar
+acellularnumber
+getattributename
+acellularnumber
+mcellularnumber
+nsimethodimp
+nsabcardproperty
+getworkphonetype
+prunichar
+aworkphonetype
+getattributename
+aworkphonetype
+mworkphonetype
+nsimethodimp
+nsabcardproperty
+gethomephonetype
+prunichar
+ahomephonetype
+getattributename
+ahomephonetype
+mhomephonetype
+nsimethodimp
+nsabcardproperty
+getfaxnumbertype
+prunichar
+afaxnumbertype
+getattributename
+afaxnumbertype
+mfaxnumbertype
+nsimethodimp
+nsabcardproperty
+getpagernumbertype
+prunichar
+apagernumbertype
+getattributename
+apagernumbertype
+mpagernumbertype
+nsimethodimp
+nsabcardproperty
+getcellularnumbertype
+prunichar
+acellularnumbertype
+getattributename
+acellularnumbertype
+mcellularnumbertype
+nsimethodimp
+nsabcardproperty
+gethomeaddress
+prunichar
+ahomeaddress
+getattributename
+ahomeaddress
+mhomeaddress
+nsimethodimp
+nsabcardproperty
+gethomeaddress
+prunichar
+ahomeaddress
+getattributename
+ahomeaddress
+mhomeaddress
+nsimethodimp
+nsabcardproperty
+gethomecity
+prunichar
+ahomecity
+getattributename
+ahomecity
+mhomecity
+nsimethodimp
+nsabcardproperty
+gethomestate
+prunichar
+ahomestate
+getattributename
+ahomestate
+mhomestate
+nsimethodimp
+nsabcardproperty
+gethomezipcode
+prunichar
+ahomezipcode
+getattributename
+ahomezipcode
+mhomezipcode
+nsimethodimp
+nsabcardproperty
+gethomecountry
+prunichar
+ahomecountry
+getattributename
+ahomecountry
+mhomecountry
+nsimethodimp
+nsabcardproperty
+getworkaddress
+prunichar
+aworkaddress
+getattributename
+aworkaddress
+mworkaddress
+nsimethodimp
+nsabcardproperty
+getworkaddress
+prunichar
+aworkaddress
+getattributename
+aworkaddress
+mworkaddress
+nsimethodimp
+nsabcardproperty
+getworkcity
+prunichar
+aworkcity
+getattributename
+aworkcity
+mworkcity
+nsimethodimp
+nsabcardproperty
+getworkstate
+prunichar
+aworkstate
+getattributename
+aworkstate
+mworkstate
+nsimethodimp
+nsabcardproperty
+getworkzipcode
+prunichar
+aworkzipcode
+getattributename
+aworkzipcode
+mworkzipcode
+nsimethodimp
+nsabcardproperty
+getworkcountry
+prunichar
+aworkcountry
+getattributename
+aworkcountry
+mworkcountry
+nsimethodimp
+nsabcardproperty
+getjobtitle
+prunichar
+ajobtitle
+getattributename
+ajobtitle
+mjobtitle
+nsimethodimp
+nsabcardproperty
+getdepartment
+prunichar
+adepartment
+getattributename
+adepartment
+mdepartment
+nsimethodimp
+nsabcardproperty
+getcompany
+prunichar
+acompany
+getattributename
+acompany
+mcompany
+nsimethodimp
+nsabcardproperty
+getaimscreenname
+prunichar
+aaimscreenname
+getattributename
+aaimscreenname
+maimscreenname
+nsimethodimp
+nsabcardproperty
+getanniversaryyear
+prunichar
+aanniversaryyear
+getattributename
+aanniversaryyear
+manniversaryyear
+nsimethodimp
+nsabcardproperty
+getanniversarymonth
+prunichar
+aanniversarymonth
+getattributename
+aanniversarymonth
+manniversarymonth
+nsimethodimp
+nsabcardproperty
+getanniversaryday
+prunichar
+aanniversaryday
+getattributename
+aanniversaryday
+manniversaryday
+nsimethodimp
+nsabcardproperty
+getspousename
+prunichar
+aspousename
+getattributename
+aspousename
+mspousename
+nsimethodimp
+nsabcardproperty
+getfamilyname
+prunichar
+afamilyname
+getattributename
+afamilyname
+mfamilyname
+nsimethodimp
+nsabcardproperty
+getdefaultaddress
+prunichar
+adefaultaddress
+getattributename
+adefaultaddress
+mdefaultaddress
+nsimethodimp
+nsabcardproperty
+getcategory
+prunichar
+acategory
+getattributename
+acategory
+mcategory
+nsimethodimp
+nsabcardproperty
+getwebpage
+prunichar
+awebpage
+getattributename
+awebpage
+mwebpage
+nsimethodimp
+nsabcardproperty
+getwebpage
+prunichar
+awebpage
+getattributename
+awebpage
+mwebpage
+nsimethodimp
+nsabcardproperty
+getbirthyear
+prunichar
+abirthyear
+getattributename
+abirthyear
+mbirthyear
+nsimethodimp
+nsabcardproperty
+getbirthmonth
+prunichar
+abirthmonth
+getattributename
+abirthmonth
+mbirthmonth
+nsimethodimp
+nsabcardproperty
+getbirthday
+prunichar
+abirthday
+getattributename
+abirthday
+mbirthday
+nsimethodimp
+nsabcardproperty
+getcustom
+prunichar
+acustom
+getattributename
+acustom
+mcustom
+nsimethodimp
+nsabcardproperty
+getcustom
+prunichar
+acustom
+getattributename
+acustom
+mcustom
+nsimethodimp
+nsabcardproperty
+getcustom
+prunichar
+acustom
+getattributename
+acustom
+mcustom
+nsimethodimp
+nsabcardproperty
+getcustom
+prunichar
+acustom
+getattributename
+acustom
+mcustom
+nsimethodimp
+nsabcardproperty
+getnotes
+prunichar
+anotes
+getattributename
+anotes
+mnote
+nsimethodimp
+nsabcardproperty
+getlastmodifieddate
+pruint
+alastmodifieddate
+alastmodifieddate
+mlastmoddate
+nsok
+nsimethodimp
+nsabcardproperty
+setfirstname
+prunichar
+afirstname
+setattributename
+afirstname
+mfirstname
+nsimethodimp
+nsabcardproperty
+setlastname
+prunichar
+alastname
+setattributename
+alastname
+mlastname
+nsimethodimp
+nsabcardproperty
+setphoneticlastname
+prunichar
+aphoneticlastname
+setattributename
+aphoneticlastname
+mphoneticlastname
+nsimethodimp
+nsabcardproperty
+setphoneticfirstname
+prunichar
+aphoneticfirstname
+setattributename
+aphoneticfirstname
+mphoneticfirstname
+nsimethodimp
+nsabcardproperty
+setdisplayname
+prunichar
+adisplayname
+setattributename
+adisplayname
+mdisplayname
+nsimethodimp
+nsabcardproperty
+setnickname
+prunichar
+anickname
+setattributename
+anickname
+mnickname
+nsimethodimp
+nsabcardproperty
+setprimaryemail
+prunichar
+aprimaryemail
+setattributename
+aprimaryemail
+mprimaryemail
+nsimethodimp
+nsabcardproperty
+setsecondemail
+prunichar
+asecondemail
+setattributename
+asecondemail
+msecondemail
+nsimethodimp
+nsabcardproperty
+setdefaultemail
+prunichar
+adefaultemail
+setattributename
+adefaultemail
+mdefaultemail
+nsimethodimp
+nsabcardproperty
+setcardtype
+prunichar
+acardtype
+setattributename
+acardtype
+mcardtype
+nsimethodimp
+nsabcardproperty
+setworkphone
+prunichar
+aworkphone
+setattributename
+aworkphone
+mworkphone
+nsimethodimp
+nsabcardproperty
+sethomephone
+prunichar
+ahomephone
+setattributename
+ahomephone
+mhomephone
+nsimethodimp
+nsabcardproperty
+setfaxnumber
+prunichar
+afaxnumber
+setattributename
+afaxnumber
+mfaxnumber
+nsimethodimp
+nsabcardproperty
+setpagernumber
+prunichar
+apagernumber
+setattributename
+apagernumber
+mpagernumber
+nsimethodimp
+nsabcardproperty
+setcellularnumber
+prunichar
+acellularnumber
+setattributename
+acellularnumber
+mcellularnumber
+nsimethodimp
+nsabcardproperty
+setworkphonetype
+prunichar
+aworkphonetype
+setattributename
+aworkphonetype
+mworkphonetype
+nsimethodimp
+nsabcardproperty
+sethomephonetype
+prunichar
+ahomephonetype
+setattributename
+ahomephonetype
+mhomephonetype
+nsimethodimp
+nsabcardproperty
+setfaxnumbertype
+prunichar
+afaxnumbertype
+setattributename
+afaxnumbertype
+mfaxnumbertype
+nsimethodimp
+nsabcardproperty
+setpagernumbertype
+prunichar
+apagernumbertype
+setattributename
+apagernumbertype
+mpagernumbertype
+nsimethodimp
+nsabcardproperty
+setcellularnumbertype
+prunichar
+acellularnumbertype
+setattributename
+acellularnumbertype
+mcellularnumbertype
+nsimethodimp
+nsabcardproperty
+sethomeaddress
+prunichar
+ahomeaddress
+setattributename
+ahomeaddress
+mhomeaddress
+nsimethodimp
+nsabcardproperty
+sethomeaddress
+prunichar
+ahomeaddress
+setattributename
+ahomeaddress
+mhomeaddress
+nsimethodimp
+nsabcardproperty
+sethomecity
+prunichar
+ahomecity
+setattributename
+ahomecity
+mhomecity
+nsimethodimp
+nsabcardproperty
+sethomestate
+prunichar
+ahomestate
+setattributename
+ahomestate
+mhomestate
+nsimethodimp
+nsabcardproperty
+sethomezipcode
+prunichar
+ahomezipcode
+setattributename
+ahomezipcode
+mhomezipcode
+nsimethodimp
+nsabcardproperty
+sethomecountry
+prunichar
+ahomecountry
+setattributename
+ahomecountry
+mhomecountry
+nsimethodimp
+nsabcardproperty
+setworkaddress
+prunichar
+aworkaddress
+setattributename
+aworkaddress
+mworkaddress
+nsimethodimp
+nsabcardproperty
+setworkaddress
+prunichar
+aworkaddress
+setattributename
+aworkaddress
+mworkaddress
+nsimethodimp
+nsabcardproperty
+setworkcity
+prunichar
+aworkcity
+setattributename
+aworkcity
+mworkcity
+nsimethodimp
+nsabcardproperty
+setworkstate
+prunichar
+aworkstate
+setattributename
+aworkstate
+mworkstate
+nsimethodimp
+nsabcardproperty
+setworkzipcode
+prunichar
+aworkzipcode
+setattributename
+aworkzipcode
+mworkzipcode
+nsimethodimp
+nsabcardproperty
+setworkcountry
+prunichar
+aworkcountry
+setattributename
+aworkcountry
+mworkcountry
+nsimethodimp
+nsabcardproperty
+setjobtitle
+prunichar
+ajobtitle
+setattributename
+ajobtitle
+mjobtitle
+nsimethodimp
+nsabcardproperty
+setdepartment
+prunichar
+adepartment
+setattributename
+adepartment
+mdepartment
+nsimethodimp
+nsabcardproperty
+setcompany
+prunichar
+acompany
+setattributename
+acompany
+mcompany
+nsimethodimp
+nsabcardproperty
+setaimscreenname
+prunichar
+aaimscreenname
+setattributename
+aaimscreenname
+maimscreenname
+nsimethodimp
+nsabcardproperty
+setanniversaryyear
+prunichar
+aanniversaryyear
+setattributename
+aanniversaryyear
+manniversaryyear
+nsimethodimp
+nsabcardproperty
+setanniversarymonth
+prunichar
+aanniversarymonth
+setattributename
+aanniversarymonth
+manniversarymonth
+nsimethodimp
+nsabcardproperty
+setanniversaryday
+prunichar
+aanniversaryday
+setattributename
+aanniversaryday
+manniversaryday
+nsimethodimp
+nsabcardproperty
+setspousename
+prunichar
+aspousename
+setattributename
+aspousename
+mspousename
+nsimethodimp
+nsabcardproperty
+setfamilyname
+prunichar
+afamilyname
+setattributename
+afamilyname
+mfamilyname
+nsimethodimp
+nsabcardproperty
+setdefaultaddress
+prunichar
+adefaultaddress
+setattributename
+adefaultaddress
+mdefaultaddress
+nsimethodimp
+nsabcardproperty
+setcategory
+prunichar
+acategory
+setattributename
+acategory
+mcategory
+nsimethodimp
+nsabcardproperty
+setwebpage
+prunichar
+awebpage
+setattributename
+awebpage
+mwebpage
+nsimethodimp
+nsabcardproperty
+setwebpage
+prunichar
+awebpage
+setattributename
+awebpage
+mwebpage
+nsimethodimp
+nsabcardproperty
+setbirthyear
+prunichar
+abirthyear
+setattributename
+abirthyear
+mbirthyear
+nsimethodimp
+nsabcardproperty
+setbirthmonth
+prunichar
+abirthmonth
+setattributename
+abirthmonth
+mbirthmonth
+nsimethodimp
+nsabcardproperty
+setbirthday
+prunichar
+abirthday
+setattributename
+abirthday
+mbirthday
+nsimethodimp
+nsabcardproperty
+setcustom
+prunichar
+acustom
+setattributename
+acustom
+mcustom
+nsimethodimp
+nsabcardproperty
+setcustom
+prunichar
+acustom
+setattributename
+acustom
+mcustom
+nsimethodimp
+nsabcardproperty
+setcustom
+prunichar
+acustom
+setattributename
+acustom
+mcustom
+nsimethodimp
+nsabcardproperty
+setcustom
+prunichar
+acustom
+setattributename
+acustom
+mcustom
+nsimethodimp
+nsabcardproperty
+setnotes
+prunichar
+anotes
+setattributename
+anotes
+mnote
+nsimethodimp
+nsabcardproperty
+setlastmodifieddate
+pruint
+alastmodifieddate
+mlastmoddate
+alastmodifieddate
+nsimethodimp
+nsabcardproperty
+copy
+nsiabcard
+srccard
+nsxpidlstring
+str
+srccard
+getfirstname
+gettercopies
+str
+setfirstname
+str
+srccard
+getlastname
+gettercopies
+str
+setlastname
+str
+srccard
+getphoneticfirstname
+gettercopies
+str
+setphoneticfirstname
+str
+srccard
+getphoneticlastname
+gettercopies
+str
+setphoneticlastname
+str
+srccard
+getdisplayname
+gettercopies
+str
+setdisplayname
+str
+srccard
+getnickname
+gettercopies
+str
+setnickname
+str
+srccard
+getprimaryemail
+gettercopies
+str
+setprimaryemail
+str
+srccard
+getsecondemail
+gettercopies
+str
+setsecondemail
+str
+srccard
+getdefaultemail
+gettercopies
+str
+setdefaultemail
+str
+srccard
+getcardtype
+gettercopies
+str
+setcardtype
+str
+pruint
+format
+srccard
+getprefermailformat
+format
+setprefermailformat
+format
+srccard
+getworkphone
+gettercopies
+str
+setworkphone
+str
+srccard
+gethomephone
+gettercopies
+str
+sethomephone
+str
+srccard
+getfaxnumber
+gettercopies
+str
+setfaxnumber
+str
+srccard
+getpagernumber
+gettercopies
+str
+setpagernumber
+str
+srccard
+getcellularnumber
+gettercopies
+str
+setcellularnumber
+str
+srccard
+getworkphonetype
+gettercopies
+str
+setworkphonetype
+str
+srccard
+gethomephonetype
+gettercopies
+str
+sethomephonetype
+str
+srccard
+getfaxnumbertype
+gettercopies
+str
+setfaxnumbertype
+str
+srccard
+getpagernumbertype
+gettercopies
+str
+setpagernumbertype
+str
+srccard
+getcellularnumbertype
+gettercopies
+str
+setcellularnumbertype
+str
+srccard
+gethomeaddress
+gettercopies
+str
+sethomeaddress
+str
+srccard
+gethomeaddress
+gettercopies
+str
+sethomeaddress
+str
+srccard
+gethomecity
+gettercopies
+str
+sethomecity
+str
+srccard
+gethomestate
+gettercopies
+str
+sethomestate
+str
+srccard
+gethomezipcode
+gettercopies
+str
+sethomezipcode
+str
+srccard
+gethomecountry
+gettercopies
+str
+sethomecountry
+str
+srccard
+getworkaddress
+gettercopies
+str
+setworkaddress
+str
+srccard
+getworkaddress
+gettercopies
+str
+setworkaddress
+str
+srccard
+getworkcity
+gettercopies
+str
+setworkcity
+str
+srccard
+getworkstate
+gettercopies
+str
+setworkstate
+str
+srccard
+getworkzipcode
+gettercopies
+str
+setworkzipcode
+str
+srccard
+getworkcountry
+gettercopies
+str
+setworkcountry
+str
+srccard
+getjobtitle
+gettercopies
+str
+setjobtitle
+str
+srccard
+getdepartment
+gettercopies
+str
+setdepartment
+str
+srccard
+getcompany
+gettercopies
+str
+setcompany
+str
+srccard
+getaimscreenname
+gettercopies
+str
+setaimscreenname
+str
+srccard
+getanniversaryyear
+gettercopies
+str
+setanniversaryyear
+str
+srccard
+getanniversarymonth
+gettercopies
+str
+setanniversarymonth
+str
+srccard
+getanniversaryday
+gettercopies
+str
+setanniversaryday
+str
+srccard
+getspousename
+gettercopies
+str
+setspousename
+str
+srccard
+getfamilyname
+gettercopies
+str
+setfamilyname
+str
+srccard
+getdefaultaddress
+gettercopies
+str
+setdefaultaddress
+str
+srccard
+getcategory
+gettercopies
+str
+setcategory
+str
+srccard
+getwebpage
+gettercopies
+str
+setwebpage
+str
+srccard
+getwebpage
+gettercopies
+str
+setwebpage
+str
+srccard
+getbirthyear
+gettercopies
+str
+setbirthyear
+str
+srccard
+getbirthmonth
+gettercopies
+str
+setbirthmonth
+str
+srccard
+getbirthday
+gettercopies
+str
+setbirthday
+str
+srccard
+getcustom
+gettercopies
+str
+setcustom
+str
+srccard
+getcustom
+gettercopies
+str
+setcustom
+str
+srccard
+getcustom
+gettercopies
+str
+setcustom
+str
+srccard
+getcustom
+gettercopies
+str
+setcustom
+str
+srccard
+getnotes
+gettercopies
+str
+setnotes
+str
+nsok
+nsimethodimp
+nsabcardproperty
+editcardtodatabase
+uri
+nserrornotimplemented
+nsimethodimp
+nsabcardproperty
+equals
+nsiabcard
+card
+prbool
+result
+result
+card
+nsok
+nsimethodimp
+nsabcardproperty
+converttobaseencodedxml
+result
+nsresult
+rv
+nsstring
+xmlstr
+xmlstr
+append
+nsliteralstring
+xml
+version
+get
+xmlstr
+append
+nsliteralstring
+xml
+stylesheet
+type
+text
+css
+href
+messenger
+content
+addressbook
+print
+css
+get
+xmlstr
+append
+nsliteralstring
+directory
+get
+nscomptr
+nsistringbundle
+bundle
+nscomptr
+nsistringbundleservice
+stringbundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nssucceeded
+rv
+rv
+stringbundleservice
+createbundle
+saddrbookproperties
+getteraddrefs
+bundle
+nssucceeded
+rv
+nsxpidlstring
+addrbook
+rv
+bundle
+getstringfromname
+nsliteralstring
+addressbook
+get
+gettercopies
+addrbook
+nssucceeded
+rv
+xmlstr
+append
+nsliteralstring
+title
+xmlns
+xhtml
+get
+xmlstr
+append
+addrbook
+xmlstr
+append
+nsliteralstring
+title
+get
+nsxpidlstring
+xmlsubstr
+rv
+converttoxmlprintdata
+gettercopies
+xmlsubstr
+nsensuresuccess
+rv
+rv
+xmlstr
+append
+xmlsubstr
+get
+xmlstr
+append
+nsliteralstring
+directory
+get
+result
+plbaseencode
+nsconvertucstoutf
+xmlstr
+get
+nsnull
+result
+nserroroutofmemory
+nsok
+nsimethodimp
+nsabcardproperty
+converttoxmlprintdata
+prunichar
+axmlsubstr
+nsensureargpointer
+axmlsubstr
+nsresult
+rv
+nsstring
+xmlstr
+nscomptr
+nsiprefservice
+prefs
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+rv
+prefs
+getbranch
+nsnull
+getteraddrefs
+prefbranch
+nsensuresuccess
+rv
+rv
+print
+generatednameformat
+rv
+prefbranch
+getintpref
+prefmailaddrbooklastnamefirst
+generatednameformat
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+rv
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+generatedname
+rv
+absession
+generatenamefromcard
+generatednameformat
+gettercopies
+generatedname
+nsensuresuccess
+rv
+rv
+nscomptr
+mozitxttohtmlconv
+conv
+docreateinstance
+moztxttohtmlconvcontractid
+rv
+nsensuresuccess
+rv
+rv
+xmlstr
+append
+nsliteralstring
+generatedname
+get
+nscomptr
+nsistringbundle
+bundle
+nscomptr
+nsistringbundleservice
+stringbundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+stringbundleservice
+createbundle
+saddrbookproperties
+getteraddrefs
+bundle
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+heading
+rv
+bundle
+getstringfromname
+nsliteralstring
+headingcardfor
+get
+gettercopies
+heading
+nsensuresuccess
+rv
+rv
+xmlstr
+append
+heading
+xmlstr
+append
+nsliteralstring
+get
+nsxpidlstring
+safetext
+generatedname
+isempty
+rv
+conv
+scantxt
+generatedname
+get
+mozitxttohtmlconv
+kentities
+gettercopies
+safetext
+nsensuresuccess
+rv
+rv
+safetext
+isempty
+xmlstr
+append
+safetext
+get
+nsxpidlstring
+primaryemail
+rv
+getcardvalue
+kpriemailcolumn
+gettercopies
+primaryemail
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+safetext
+rv
+conv
+scantxt
+primaryemail
+get
+mozitxttohtmlconv
+kentities
+gettercopies
+safetext
+nsensuresuccess
+rv
+rv
+xmlstr
+append
+safetext
+get
+xmlstr
+append
+nsliteralstring
+generatedname
+get
+xmlstr
+append
+nsliteralstring
+table
+tr
+td
+get
+rv
+appendsection
+nameattrsarray
+nameattrsarray
+appenditem
+nsnull
+conv
+xmlstr
+xmlstr
+append
+nsliteralstring
+td
+tr
+get
+xmlstr
+append
+nsliteralstring
+tr
+td
+get
+rv
+appendsection
+phoneattrsarray
+phoneattrsarray
+appenditem
+nsliteralstring
+headingphone
+get
+conv
+xmlstr
+mismaillist
+rv
+appendsection
+customattrsarray
+customattrsarray
+appenditem
+nsliteralstring
+headingother
+get
+conv
+xmlstr
+rv
+appendsection
+customattrsarray
+customattrsarray
+appenditem
+nsliteralstring
+headingdescription
+get
+conv
+xmlstr
+xmlstr
+append
+nsliteralstring
+section
+sectiontitle
+get
+rv
+bundle
+getstringfromname
+nsliteralstring
+headingaddresses
+get
+gettercopies
+heading
+nsensuresuccess
+rv
+rv
+xmlstr
+append
+heading
+xmlstr
+append
+nsliteralstring
+sectiontitle
+get
+nscomptr
+nsirdfservice
+rdfservice
+dogetservice
+rdf
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+resource
+rv
+rdfservice
+getresource
+mmaillisturi
+getteraddrefs
+resource
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabdirectory
+maillist
+doqueryinterface
+resource
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupportsarray
+addresses
+rv
+maillist
+getaddresslists
+getteraddrefs
+addresses
+addresses
+pruint
+total
+addresses
+count
+total
+total
+pruint
+nsxpidlstring
+displayname
+nsxpidlstring
+primaryemail
+total
+nscomptr
+nsiabcard
+listcard
+doqueryelementat
+addresses
+rv
+nsensuresuccess
+rv
+rv
+xmlstr
+append
+nsliteralstring
+primaryemail
+get
+rv
+listcard
+getdisplayname
+gettercopies
+displayname
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+safetext
+rv
+conv
+scantxt
+displayname
+get
+mozitxttohtmlconv
+kentities
+gettercopies
+safetext
+nsensuresuccess
+rv
+rv
+xmlstr
+append
+safetext
+get
+xmlstr
+append
+nsliteralstring
+lt
+get
+rv
+listcard
+getprimaryemail
+gettercopies
+primaryemail
+nsensuresuccess
+rv
+rv
+rv
+conv
+scantxt
+primaryemail
+get
+mozitxttohtmlconv
+kentities
+gettercopies
+safetext
+nsensuresuccess
+rv
+rv
+xmlstr
+append
+safetext
+get
+xmlstr
+append
+nsliteralstring
+gt
+get
+xmlstr
+append
+nsliteralstring
+primaryemail
+get
+xmlstr
+append
+nsliteralstring
+section
+get
+xmlstr
+append
+nsliteralstring
+td
+td
+get
+rv
+appendsection
+homeattrsarray
+homeattrsarray
+appenditem
+nsliteralstring
+headinghome
+get
+conv
+xmlstr
+rv
+appendsection
+workattrsarray
+workattrsarray
+appenditem
+nsliteralstring
+headingwork
+get
+conv
+xmlstr
+xmlstr
+append
+nsliteralstring
+td
+tr
+table
+get
+axmlsubstr
+tonewunicode
+xmlstr
+nsok
+nsresult
+nsabcardproperty
+appenddata
+aattrname
+mozitxttohtmlconv
+aconv
+nsstring
+aresult
+nsxpidlstring
+attrvalue
+nsresult
+rv
+getcardvalue
+aattrname
+gettercopies
+attrvalue
+nsensuresuccess
+rv
+rv
+attrvalue
+isempty
+nsok
+nsautostring
+attrnamestr
+attrnamestr
+assignwithconversion
+aattrname
+aresult
+append
+nsliteralstring
+get
+aresult
+append
+attrnamestr
+get
+aresult
+append
+nsliteralstring
+get
+nsxpidlstring
+safetext
+rv
+aconv
+scantxt
+attrvalue
+get
+mozitxttohtmlconv
+kentities
+gettercopies
+safetext
+nsensuresuccess
+rv
+rv
+aresult
+append
+safetext
+get
+aresult
+append
+nsliteralstring
+get
+aresult
+append
+attrnamestr
+get
+aresult
+append
+nsliteralstring
+get
+nsok
+nsresult
+nsabcardproperty
+appendsection
+appenditem
+aarray
+print
+acount
+prunichar
+aheading
+mozitxttohtmlconv
+aconv
+nsstring
+aresult
+nsresult
+rv
+aresult
+append
+nsliteralstring
+section
+get
+nsxpidlstring
+attrvalue
+prbool
+sectionisempty
+prtrue
+print
+acount
+rv
+getcardvalue
+aarray
+mcolumn
+gettercopies
+attrvalue
+nsensuresuccess
+rv
+rv
+sectionisempty
+attrvalue
+isempty
+sectionisempty
+aheading
+nscomptr
+nsistringbundle
+bundle
+nscomptr
+nsistringbundleservice
+stringbundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+stringbundleservice
+createbundle
+saddrbookproperties
+getteraddrefs
+bundle
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+heading
+rv
+bundle
+getstringfromname
+aheading
+gettercopies
+heading
+nsensuresuccess
+rv
+rv
+aresult
+append
+nsliteralstring
+sectiontitle
+get
+aresult
+append
+heading
+aresult
+append
+nsliteralstring
+sectiontitle
+get
+acount
+rv
+aarray
+mcallback
+aarray
+aconv
+aresult
+nsassertion
+nssucceeded
+rv
+append
+callback
+failed
+aresult
+append
+nsliteralstring
+section
+get
+nsok
+nsresult
+appendline
+nsabcardproperty
+acard
+appenditem
+aitem
+mozitxttohtmlconv
+aconv
+nsstring
+aresult
+nsxpidlstring
+attrvalue
+nsresult
+rv
+acard
+getcardvalue
+aitem
+mcolumn
+gettercopies
+attrvalue
+nsensuresuccess
+rv
+rv
+attrvalue
+isempty
+nsok
+nsautostring
+attrnamestr
+attrnamestr
+assignwithconversion
+aitem
+mcolumn
+aresult
+append
+nsliteralstring
+get
+aresult
+append
+attrnamestr
+get
+aresult
+append
+nsliteralstring
+get
+nsxpidlstring
+safetext
+rv
+aconv
+scantxt
+attrvalue
+get
+mozitxttohtmlconv
+kentities
+gettercopies
+safetext
+nsensuresuccess
+rv
+rv
+aresult
+append
+safetext
+get
+aresult
+append
+nsliteralstring
+get
+aresult
+append
+attrnamestr
+get
+aresult
+append
+nsliteralstring
+get
+nsok
+nsresult
+appendlabel
+nsabcardproperty
+acard
+appenditem
+aitem
+mozitxttohtmlconv
+aconv
+nsstring
+aresult
+nsresult
+rv
+nscomptr
+nsistringbundle
+bundle
+nscomptr
+nsistringbundleservice
+stringbundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+stringbundleservice
+createbundle
+saddrbookproperties
+getteraddrefs
+bundle
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+label
+nsxpidlstring
+attrvalue
+rv
+acard
+getcardvalue
+aitem
+mcolumn
+gettercopies
+attrvalue
+nsensuresuccess
+rv
+rv
+attrvalue
+isempty
+nsok
+rv
+bundle
+getstringfromname
+nsconvertasciitoucs
+aitem
+mlabel
+get
+gettercopies
+label
+nsensuresuccess
+rv
+rv
+aresult
+append
+nsliteralstring
+labelrow
+label
+get
+aresult
+append
+label
+get
+aresult
+append
+nsliteralstring
+get
+aresult
+append
+nsliteralstring
+label
+get
+rv
+appendline
+acard
+aitem
+aconv
+aresult
+nsensuresuccess
+rv
+rv
+aresult
+append
+nsliteralstring
+labelrow
+get
+nsok
+nsresult
+appendcitystatezip
+nsabcardproperty
+acard
+appenditem
+aitem
+mozitxttohtmlconv
+aconv
+nsstring
+aresult
+nsresult
+rv
+nsxpidlstring
+attrvalue
+appenditem
+item
+statecol
+zipcol
+strcmp
+aitem
+mcolumn
+khomecitycolumn
+statecol
+khomestatecolumn
+zipcol
+khomezipcodecolumn
+statecol
+kworkstatecolumn
+zipcol
+kworkzipcodecolumn
+nsautostring
+cityresult
+stateresult
+zipresult
+rv
+appendline
+acard
+aitem
+aconv
+cityresult
+nsensuresuccess
+rv
+rv
+item
+mcolumn
+statecol
+item
+mlabel
+rv
+appendline
+acard
+item
+aconv
+stateresult
+nsensuresuccess
+rv
+rv
+item
+mcolumn
+zipcol
+rv
+appendline
+acard
+item
+aconv
+zipresult
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+formattedstring
+nscomptr
+nsistringbundle
+bundle
+nscomptr
+nsistringbundleservice
+stringbundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+stringbundleservice
+createbundle
+saddrbookproperties
+getteraddrefs
+bundle
+nsensuresuccess
+rv
+rv
+cityresult
+isempty
+stateresult
+isempty
+zipresult
+isempty
+prunichar
+formatstrings
+cityresult
+get
+stateresult
+get
+zipresult
+get
+rv
+bundle
+formatstringfromname
+nsliteralstring
+cityandstateandzip
+get
+formatstrings
+gettercopies
+formattedstring
+nsensuresuccess
+rv
+rv
+cityresult
+isempty
+stateresult
+isempty
+zipresult
+isempty
+prunichar
+formatstrings
+cityresult
+get
+stateresult
+get
+rv
+bundle
+formatstringfromname
+nsliteralstring
+cityandstatenozip
+get
+formatstrings
+gettercopies
+formattedstring
+nsensuresuccess
+rv
+rv
+cityresult
+isempty
+stateresult
+isempty
+zipresult
+isempty
+cityresult
+isempty
+stateresult
+isempty
+zipresult
+isempty
+prunichar
+formatstrings
+cityresult
+isempty
+stateresult
+get
+cityresult
+get
+zipresult
+get
+rv
+bundle
+formatstringfromname
+nsliteralstring
+cityorstateandzip
+get
+formatstrings
+gettercopies
+formattedstring
+nsensuresuccess
+rv
+rv
+cityresult
+isempty
+formattedstring
+cityresult
+stateresult
+isempty
+formattedstring
+stateresult
+formattedstring
+zipresult
+aresult
+append
+formattedstring
+nsok
\ No newline at end of file
@@ -0,0 +1,696 @@
+nsabdirproperty
+nsirdfservice
+nsirdfresource
+nsiservicemanager
+nsrdfcid
+nsxpidlstring
+nsreadableutils
+nscomptr
+nsabbasecid
+nsiabcard
+nsdirprefs
+prmem
+rdf
+mdb
+nsabdirproperty
+nsabdirproperty
+mlastmodifieddate
+mismaillist
+prfalse
+nsabdirproperty
+nsabdirproperty
+maddresslist
+pruint
+count
+nsresult
+rv
+rv
+maddresslist
+count
+count
+nsassertion
+nssucceeded
+rv
+count
+failed
+print
+count
+maddresslist
+removeelementat
+endif
+nsimplisupports
+nsabdirproperty
+nsiabdirectory
+nsimethodimp
+nsabdirproperty
+getoperations
+print
+aoperations
+nsensureargpointer
+aoperations
+aoperations
+nsiabdirectory
+opread
+nsiabdirectory
+opwrite
+nsiabdirectory
+opsearch
+nsok
+nsimethodimp
+nsabdirproperty
+getdirname
+prunichar
+adirname
+adirname
+adirname
+tonewunicode
+mdirname
+adirname
+nserroroutofmemory
+nsok
+nserrornullpointer
+nsimethodimp
+nsabdirproperty
+setdirname
+prunichar
+adirname
+adirname
+mdirname
+adirname
+nsok
+nsimethodimp
+nsabdirproperty
+getlastmodifieddate
+pruint
+alastmodifieddate
+alastmodifieddate
+alastmodifieddate
+mlastmodifieddate
+nsok
+nsrdfnovalue
+nsimethodimp
+nsabdirproperty
+setlastmodifieddate
+pruint
+alastmodifieddate
+alastmodifieddate
+mlastmodifieddate
+alastmodifieddate
+nsok
+nsresult
+nsabdirproperty
+getattributename
+prunichar
+aname
+nsstring
+value
+aname
+aname
+tonewunicode
+value
+aname
+nserroroutofmemory
+nsok
+nserrornullpointer
+nsresult
+nsabdirproperty
+setattributename
+prunichar
+aname
+nsstring
+arrtibute
+aname
+arrtibute
+aname
+nsok
+nsimethodimp
+nsabdirproperty
+getlistnickname
+prunichar
+alistnickname
+getattributename
+alistnickname
+mlistnickname
+nsimethodimp
+nsabdirproperty
+setlistnickname
+prunichar
+alistnickname
+setattributename
+alistnickname
+mlistnickname
+nsimethodimp
+nsabdirproperty
+getdescription
+prunichar
+adescription
+getattributename
+adescription
+mdescription
+nsimethodimp
+nsabdirproperty
+setdescription
+prunichar
+adescription
+setattributename
+adescription
+mdescription
+nsimethodimp
+nsabdirproperty
+getismaillist
+prbool
+aismaillist
+aismaillist
+mismaillist
+nsok
+nsimethodimp
+nsabdirproperty
+setismaillist
+prbool
+aismaillist
+mismaillist
+aismaillist
+nsok
+nsimethodimp
+nsabdirproperty
+getaddresslists
+nsisupportsarray
+aaddresslists
+maddresslist
+nsnewisupportsarray
+getteraddrefs
+maddresslist
+aaddresslists
+maddresslist
+nsaddref
+aaddresslists
+nsok
+nsimethodimp
+nsabdirproperty
+setaddresslists
+nsisupportsarray
+aaddresslists
+maddresslist
+aaddresslists
+nsok
+nsimethodimp
+nsabdirproperty
+copymaillist
+nsiabdirectory
+srclist
+nsxpidlstring
+str
+srclist
+getdirname
+gettercopies
+str
+setdirname
+str
+srclist
+getlistnickname
+gettercopies
+str
+setlistnickname
+str
+srclist
+getdescription
+gettercopies
+str
+setdescription
+str
+setismaillist
+prtrue
+nscomptr
+nsisupportsarray
+paddresslists
+srclist
+getaddresslists
+getteraddrefs
+paddresslists
+setaddresslists
+paddresslists
+nsok
+nsimethodimp
+nsabdirproperty
+getchildnodes
+nsienumerator
+childlist
+nserrornotimplemented
+nsimethodimp
+nsabdirproperty
+getchildcards
+nsienumerator
+childcards
+nserrornotimplemented
+nsimethodimp
+nsabdirproperty
+modifydirectory
+nsiabdirectory
+directory
+nsiabdirectoryproperties
+aproperties
+nserrornotimplemented
+nsimethodimp
+nsabdirproperty
+deletedirectory
+nsiabdirectory
+dierctory
+nserrornotimplemented
+nsimethodimp
+nsabdirproperty
+deletecards
+nsisupportsarray
+cards
+nserrornotimplemented
+nsimethodimp
+nsabdirproperty
+hascard
+nsiabcard
+cards
+prbool
+hascard
+nserrornotimplemented
+nsimethodimp
+nsabdirproperty
+hasdirectory
+nsiabdirectory
+dir
+prbool
+hasdir
+nserrornotimplemented
+nsimethodimp
+nsabdirproperty
+createnewdirectory
+nsiabdirectoryproperties
+aproperties
+nserrornotimplemented
+nsimethodimp
+nsabdirproperty
+createdirectorybyuri
+prunichar
+dirname
+uri
+prbool
+migrating
+nserrornotimplemented
+nsimethodimp
+nsabdirproperty
+addmaillist
+nsiabdirectory
+list
+nserrornotimplemented
+nsimethodimp
+nsabdirproperty
+addmaillistwithkey
+nsiabdirectory
+list
+pruint
+key
+nserrornotimplemented
+nsimethodimp
+nsabdirproperty
+editmaillisttodatabase
+uri
+nsiabcard
+listcard
+nserrornotimplemented
+nsimethodimp
+nsabdirproperty
+addcard
+nsiabcard
+childcard
+nsiabcard
+addedcard
+nserrornotimplemented
+nsimethodimp
+nsabdirproperty
+dropcard
+nsiabcard
+childcard
+prbool
+needtocopycard
+nserrornotimplemented
+nsimethodimp
+nsabdirproperty
+getvalueforcard
+nsiabcard
+card
+name
+prunichar
+value
+nserrornotimplemented
+nsimethodimp
+nsabdirproperty
+setvalueforcard
+nsiabcard
+card
+name
+prunichar
+value
+nserrornotimplemented
+nsimethodimp
+nsabdirproperty
+getsupportsmailinglists
+prbool
+asupportsmailingslists
+nsensureargpointer
+asupportsmailingslists
+asupportsmailingslists
+prtrue
+nsok
+nsimethodimp
+nsabdirproperty
+getisremote
+prbool
+aisremote
+nsensureargpointer
+aisremote
+aisremote
+prfalse
+nsok
+nsimethodimp
+nsabdirproperty
+getissecure
+prbool
+aissecure
+nsensureargpointer
+aissecure
+aissecure
+prfalse
+nsok
+nsimethodimp
+nsabdirproperty
+getsearchduringlocalautocomplete
+prbool
+asearchduringlocalautocomplete
+nsensureargpointer
+asearchduringlocalautocomplete
+asearchduringlocalautocomplete
+prtrue
+nsok
+nsimethodimp
+nsabdirproperty
+getdirprefid
+nsacstring
+adirprefid
+adirprefid
+mdirprefid
+nsok
+nsimethodimp
+nsabdirproperty
+setdirprefid
+nsacstring
+adirprefid
+mdirprefid
+assign
+adirprefid
+nsok
+nsimethodimp
+nsabdirproperty
+getdirectoryproperties
+nsiabdirectoryproperties
+adirectoryproperties
+nsensureargpointer
+adirectoryproperties
+nsresult
+rv
+dirserver
+server
+dirserver
+prmalloc
+dirserver
+server
+nserroroutofmemory
+dirinitserver
+server
+nscautostring
+prefid
+rv
+getdirprefid
+prefid
+nssucceeded
+rv
+server
+prefname
+nscrt
+strdup
+prefid
+get
+dirgetprefsforoneserver
+server
+prfalse
+prfalse
+nscomptr
+nsiabdirectoryproperties
+properties
+docreateinstance
+nsabdirectorypropertiescontractid
+rv
+nssucceeded
+rv
+nsconvertutftoucs
+description
+server
+description
+rv
+properties
+setdescription
+description
+nssucceeded
+rv
+rv
+properties
+setfilename
+server
+filename
+nssucceeded
+rv
+rv
+properties
+setprefname
+server
+prefname
+nssucceeded
+rv
+rv
+properties
+seturi
+server
+uri
+nssucceeded
+rv
+rv
+properties
+setdirtype
+server
+dirtype
+nssucceeded
+rv
+rv
+properties
+setmaxhits
+server
+maxhits
+nssucceeded
+rv
+rv
+properties
+setauthdn
+server
+authdn
+nssucceeded
+rv
+rv
+properties
+setcategoryid
+server
+palmcategoryid
+nssucceeded
+rv
+rv
+properties
+setsynctimestamp
+server
+palmsynctimestamp
+nssucceeded
+rv
+nsaddref
+adirectoryproperties
+properties
+dirdeleteserver
+server
+nsassertion
+nssucceeded
+rv
+nsabdirproperty
+getdirprefid
+failed
+rv
+nsabdirectoryproperties
+nsabdirectoryproperties
+mdirtype
+ldapdirectory
+mmaxhits
+msynctimestamp
+mcategoryid
+nsabdirectoryproperties
+nsabdirectoryproperties
+nsimplisupports
+nsabdirectoryproperties
+nsiabdirectoryproperties
+nsimethodimp
+nsabdirectoryproperties
+setdescription
+nsastring
+adescription
+mdescription
+adescription
+nsok
+nsimethodimp
+nsabdirectoryproperties
+getdescription
+nsastring
+adescription
+adescription
+mdescription
+nsok
+nsimethodimp
+nsabdirectoryproperties
+seturi
+auri
+muri
+auri
+nsok
+nsimethodimp
+nsabdirectoryproperties
+geturi
+auri
+nsensureargpointer
+auri
+auri
+tonewcstring
+muri
+nsok
+nsimethodimp
+nsabdirectoryproperties
+setfilename
+afilename
+mfilename
+afilename
+nsok
+nsimethodimp
+nsabdirectoryproperties
+getfilename
+afilename
+nsensureargpointer
+afilename
+afilename
+tonewcstring
+mfilename
+nsok
+nsimethodimp
+nsabdirectoryproperties
+setprefname
+aprefname
+mprefname
+aprefname
+nsok
+nsimethodimp
+nsabdirectoryproperties
+getprefname
+aprefname
+nsensureargpointer
+aprefname
+aprefname
+tonewcstring
+mprefname
+nsok
+nsimethodimp
+nsabdirectoryproperties
+setdirtype
+pruint
+adirtype
+mdirtype
+adirtype
+nsok
+nsimethodimp
+nsabdirectoryproperties
+getdirtype
+pruint
+adirtype
+nsensureargpointer
+adirtype
+adirtype
+mdirtype
+nsok
+nsimethodimp
+nsabdirectoryproperties
+setmaxhits
+pruint
+amaxhits
+mmaxhits
+amaxhits
+nsok
+nsimethodimp
+nsabdirectoryproperties
+getmaxhits
+pruint
+amaxhits
+nsensureargpointer
+amaxhits
+amaxhits
+mmaxhits
+nsok
+nsimethodimp
+nsabdirectoryproperties
+setauthdn
+aauthdn
+mauthdn
+aauthdn
+nsok
+nsimethodimp
+nsabdirectoryproperties
+getauthdn
+aauthdn
+nsensureargpointer
+aauthdn
+aauthdn
+tonewcstring
+mauthdn
+nsok
+nsimethodimp
+nsabdirectoryproperties
+setcategoryid
+print
+acategoryid
+mcategoryid
+acategoryid
+nsok
+nsimethodimp
+nsabdirectoryproperties
+getcategoryid
+print
+acategoryid
+nsensureargpointer
+acategoryid
+acategoryid
+mcategoryid
+nsok
+nsimethodimp
+nsabdirectoryproperties
+setsynctimestamp
+pruint
+asynctimestamp
+msynctimestamp
+asynctimestamp
+nsok
+nsimethodimp
+nsabdirectoryproperties
+getsynctimestamp
+pruint
+asynctimestamp
+nsensureargpointer
+asynctimestamp
+asynctimestamp
+msynctimestamp
+nsok
\ No newline at end of file
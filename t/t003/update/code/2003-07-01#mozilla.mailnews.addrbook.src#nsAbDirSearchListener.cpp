@@ -0,0 +1,123 @@
+nsabdirsearchlistener
+nscomptr
+nsstring
+nsxpidlstring
+nscrt
+nsimplthreadsafeisupports
+nsabdirsearchlistener
+nsiabdirectoryqueryresultlistener
+nsabdirsearchlistener
+nsabdirsearchlistener
+nsabdirsearchlistenercontext
+searchcontext
+msearchcontext
+searchcontext
+nsabdirsearchlistener
+nsabdirsearchlistener
+nsimethodimp
+nsabdirsearchlistener
+onqueryitem
+nsiabdirectoryqueryresult
+result
+nsresult
+rv
+print
+resulttype
+rv
+result
+gettype
+resulttype
+nsensuresuccess
+rv
+rv
+resulttype
+nsiabdirectoryqueryresult
+queryresultmatch
+rv
+msearchcontext
+onsearchfinished
+resulttype
+rv
+nscomptr
+nsisupportsarray
+properties
+rv
+result
+getresult
+getteraddrefs
+properties
+nsensuresuccess
+rv
+rv
+pruint
+count
+rv
+properties
+count
+count
+nsensuresuccess
+rv
+rv
+count
+nserrorfailure
+nscomptr
+nsisupports
+item
+rv
+properties
+getelementat
+getteraddrefs
+item
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabdirectoryquerypropertyvalue
+property
+doqueryinterface
+item
+rv
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+name
+rv
+property
+getname
+gettercopies
+name
+nsensuresuccess
+rv
+rv
+nscrt
+strcasecmp
+name
+card
+nsiabcard
+nserrorfailure
+nscomptr
+nsisupports
+cardsupports
+rv
+property
+getvalueisupports
+getteraddrefs
+cardsupports
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabcard
+card
+doqueryinterface
+cardsupports
+rv
+nsensuresuccess
+rv
+rv
+rv
+msearchcontext
+onsearchfoundcard
+card
+rv
\ No newline at end of file
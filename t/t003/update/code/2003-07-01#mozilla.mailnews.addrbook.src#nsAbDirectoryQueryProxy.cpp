@@ -0,0 +1,29 @@
+nsabdirectoryquery
+nsabdirectoryqueryproxy
+nsimplisupports
+nsabdirectoryqueryproxy
+nsiabdirectoryqueryproxy
+nsiabdirectoryquery
+nsabdirectoryqueryproxy
+nsabdirectoryqueryproxy
+minitiated
+prfalse
+nsabdirectoryqueryproxy
+nsabdirectoryqueryproxy
+nsimethodimp
+nsabdirectoryqueryproxy
+initiate
+nsiabdirectory
+directory
+minitiated
+prtrue
+nsok
+nsabdirectoryquery
+directoryquery
+nsabdirectoryquery
+directory
+mdirectoryquery
+directoryquery
+minitiated
+prtrue
+nsok
\ No newline at end of file
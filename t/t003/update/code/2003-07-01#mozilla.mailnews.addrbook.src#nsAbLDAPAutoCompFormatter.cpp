@@ -0,0 +1,914 @@
+defined
+xpmac
+defined
+mozldapxpcom
+nsabldapautocompformatter
+nsiautocompleteresults
+nsiservicemanager
+nsimsgheaderparser
+nsildapmessage
+nsldap
+nsreadableutils
+nsistringbundle
+nsxpcom
+nsisupportsprimitives
+nsidnsservice
+nsimplisupports
+nsabldapautocompformatter
+nsildapautocompformatter
+nsiabldapautocompformatter
+nsabldapautocompformatter
+nsabldapautocompformatter
+mnameformat
+nsliteralstring
+cn
+maddressformat
+nsliteralstring
+mail
+nsabldapautocompformatter
+nsabldapautocompformatter
+nsimethodimp
+nsabldapautocompformatter
+format
+nsildapmessage
+amsg
+nsiautocompleteitem
+aitem
+nsresult
+rv
+nscomptr
+nsimsgheaderparser
+msghdrparser
+dogetservice
+messenger
+headerparser
+rv
+nsfailed
+rv
+nserror
+nsabldapautocompformatter
+format
+dogetservice
+failed
+trying
+to
+obtain
+messenger
+headerparser
+nserrornotavailable
+nscautostring
+name
+rv
+processformat
+mnameformat
+amsg
+name
+nsfailed
+rv
+rv
+nscautostring
+address
+rv
+processformat
+maddressformat
+amsg
+address
+nsfailed
+rv
+rv
+nsxpidlcstring
+value
+rv
+msghdrparser
+makefulladdress
+nsnull
+name
+get
+address
+get
+gettercopies
+value
+nsfailed
+rv
+nserror
+nsabldapautocompformatter
+format
+call
+to
+makefulladdress
+failed
+rv
+nscomptr
+nsiautocompleteitem
+item
+docreateinstance
+nsautocompleteitemcontractid
+rv
+nsfailed
+rv
+nserror
+nsabldapautocompformatter
+format
+couldn
+create
+nsautocompleteitemcontractid
+nserrornotavailable
+rv
+item
+setvalue
+nsconvertutftoucs
+value
+nsfailed
+rv
+nserror
+nsabldapautocompformatter
+format
+item
+setvalue
+failed
+rv
+nscautostring
+comment
+rv
+processformat
+mcommentformat
+amsg
+comment
+nssucceeded
+rv
+rv
+item
+setcomment
+nsconvertutftoucs
+comment
+get
+nsfailed
+rv
+nswarning
+nsabldapautocompformatter
+format
+item
+setcomment
+failed
+rv
+item
+setclassname
+remote
+abook
+nsfailed
+rv
+nswarning
+nsabldapautocompleteformatter
+format
+item
+setclassname
+failed
+nsifaddref
+aitem
+item
+nsok
+nsimethodimp
+nsabldapautocompformatter
+formatexception
+print
+astate
+nsresult
+aerrorcode
+nsiautocompleteitem
+aitem
+print
+errorkey
+nsresult
+rv
+nscomptr
+nsiautocompleteitem
+item
+docreateinstance
+nsautocompleteitemcontractid
+rv
+nsfailed
+rv
+nserror
+nsabldapautocompformatter
+formatexception
+couldn
+create
+nsautocompleteitemcontractid
+nserrornotavailable
+nsxpidlstring
+errmsg
+ldaperrmsg
+errcode
+alertmsg
+ldaphint
+nsstring
+errcodenum
+nscomptr
+nsistringbundleservice
+stringbundlesvc
+dogetservice
+nsstringbundlecontractid
+rv
+nsfailed
+rv
+nserror
+nsabldapautocompleteformatter
+formatexception
+error
+getting
+bundle
+service
+rv
+nscomptr
+nsistringbundle
+ldapbundle
+ldapacbundle
+rv
+stringbundlesvc
+createbundle
+mozldap
+locale
+ldap
+properties
+getteraddrefs
+ldapbundle
+nsfailed
+rv
+nserror
+nsabldapautocompleteformatter
+formatexception
+error
+creating
+bundle
+mozldap
+locale
+ldap
+properties
+rv
+rv
+stringbundlesvc
+createbundle
+global
+locale
+ldapautocomperrs
+properties
+getteraddrefs
+ldapacbundle
+nsfailed
+rv
+nserror
+nsabldapautocompleteformatter
+formatexception
+error
+creating
+bundle
+global
+locale
+ldapautocomperrs
+properties
+rv
+rv
+ldapacbundle
+getstringfromid
+astate
+gettercopies
+errmsg
+nsfailed
+rv
+nserror
+nsabldapautocompleteformatter
+formatexception
+error
+getting
+general
+error
+from
+bundle
+global
+locale
+ldapautocomperrs
+properties
+rv
+rv
+ldapacbundle
+getstringfromname
+nsliteralstring
+errcode
+get
+gettercopies
+errcode
+nsfailed
+rv
+nserror
+nsabldapautocompleteformatter
+formatexception
+error
+getting
+errcode
+from
+bundle
+mozldap
+locale
+ldap
+properties
+rv
+nserrorgetmodule
+aerrorcode
+nserrormoduleldap
+errorkey
+nserrorgetcode
+aerrorcode
+errcodenum
+appendint
+errorkey
+rv
+ldapbundle
+getstringfromid
+nserrorgetcode
+aerrorcode
+gettercopies
+ldaperrmsg
+nsfailed
+rv
+nserror
+nsabldapautocompleteformatter
+formatexception
+error
+getting
+from
+bundle
+mozldap
+locale
+ldap
+properties
+rv
+errcodenum
+nsliteralstring
+errcodenum
+appendint
+aerrorcode
+print
+hostnotfounderror
+print
+genericerror
+errorkey
+aerrorcode
+nserrorunknownhost
+hostnotfounderror
+genericerror
+rv
+ldapacbundle
+getstringfromid
+errorkey
+gettercopies
+ldaperrmsg
+nsfailed
+rv
+nserror
+nsabldapautocompleteformatter
+formatexception
+error
+getting
+specific
+non
+ldap
+error
+from
+bundle
+mozldap
+locale
+ldap
+properties
+rv
+print
+hintbase
+print
+generichintcode
+rv
+ldapacbundle
+getstringfromid
+hintbase
+errorkey
+gettercopies
+ldaphint
+nsfailed
+rv
+rv
+ldapacbundle
+getstringfromid
+hintbase
+generichintcode
+gettercopies
+ldaphint
+nsfailed
+rv
+nserror
+nsabldapautocompleteformatter
+formatexception
+error
+getting
+hint
+from
+bundle
+mozldap
+locale
+ldap
+properties
+rv
+prunichar
+stringparams
+errcode
+get
+errcodenum
+get
+ldaperrmsg
+get
+ldaphint
+get
+rv
+ldapacbundle
+formatstringfromname
+nsliteralstring
+alertformat
+get
+stringparams
+gettercopies
+alertmsg
+nsfailed
+rv
+nswarning
+yyy
+errmsg
+length
+rv
+item
+setvalue
+promiseflatstring
+nsliteralstring
+errmsg
+nsliteralstring
+rv
+item
+setvalue
+nsliteralstring
+unknown
+ldap
+autocompletion
+error
+nsfailed
+rv
+nserror
+nsabldapautocompformatter
+formatexception
+item
+setvalue
+failed
+rv
+nscomptr
+nsisupportsstring
+alert
+docreateinstance
+nssupportsstringcontractid
+rv
+nsfailed
+rv
+nswarning
+nsabldapautocompformatter
+formatexception
+could
+create
+nsisupportsstring
+rv
+alert
+setdata
+alertmsg
+nsfailed
+rv
+nswarning
+nsabldapautocompformatter
+formatexception
+alert
+set
+failed
+rv
+item
+setparam
+alert
+nsfailed
+rv
+nswarning
+nsabldapautocompformatter
+formatexception
+item
+setparam
+failed
+rv
+item
+setclassname
+remote
+err
+nsfailed
+rv
+nswarning
+nsabldapautocompleteformatter
+formatexception
+item
+setclassname
+failed
+nsifaddref
+aitem
+item
+nsok
+nsimethodimp
+nsabldapautocompformatter
+getattributes
+pruint
+acount
+aattrs
+acount
+aattrs
+nserrorinvalidpointer
+nscstringarray
+msearchattrs
+nsresult
+rv
+processformat
+mnameformat
+msearchattrs
+nsfailed
+rv
+nswarning
+nsabldapautocompformatter
+setnameformat
+processformat
+failed
+rv
+rv
+processformat
+maddressformat
+msearchattrs
+nsfailed
+rv
+nswarning
+nsabldapautocompformatter
+setnameformat
+processformat
+failed
+rv
+rv
+processformat
+mcommentformat
+msearchattrs
+nsfailed
+rv
+nswarning
+nsabldapautocompformatter
+setnameformat
+processformat
+failed
+rv
+pruint
+count
+msearchattrs
+count
+count
+nserror
+nsabldapautocompformatter
+getattributes
+current
+output
+format
+set
+requires
+no
+search
+attributes
+nserrornotinitialized
+pruint
+rawsearchattrssize
+rawsearchattrs
+nsstaticcast
+nsmemory
+alloc
+count
+rawsearchattrs
+nserror
+nsabldapautocompformatter
+getattributes
+out
+of
+memory
+nserroroutofmemory
+rawsearchattrssize
+count
+rawsearchattrs
+rawsearchattrssize
+tonewcstring
+msearchattrs
+cstringat
+rawsearchattrssize
+nsfreexpcomallocatedpointerarray
+rawsearchattrssize
+rawsearchattrs
+nserror
+nsabldapautocompformatter
+getattributes
+out
+of
+memory
+nserroroutofmemory
+rawsearchattrssize
+acount
+rawsearchattrssize
+aattrs
+rawsearchattrs
+nsok
+nsresult
+nsabldapautocompformatter
+processformat
+nsastring
+aformat
+nsildapmessage
+amessage
+nsacstring
+avalue
+nscstringarray
+aattrs
+nsresult
+rv
+nsreadingiterator
+prunichar
+iter
+iterend
+aformat
+beginreading
+iter
+aformat
+endreading
+iterend
+nscomptr
+nsiconsoleservice
+consolesvc
+dogetservice
+consoleservice
+rv
+nsfailed
+rv
+nswarning
+nsabldapautocompformatter
+processformat
+couldn
+get
+console
+service
+prbool
+attrrequired
+prfalse
+nscautostring
+attrname
+iter
+iterend
+iter
+prunichar
+attrrequired
+prtrue
+prunichar
+rv
+parseattrname
+iter
+iterend
+attrrequired
+consolesvc
+attrname
+nsfailed
+rv
+rv
+aattrs
+aattrs
+indexofignorecase
+attrname
+aattrs
+appendcstring
+attrname
+nserror
+nsabldapautocompformatter
+processformat
+aattrs
+appendcstring
+attrname
+failed
+nserrorunexpected
+rv
+appendfirstattrvalue
+attrname
+amessage
+attrrequired
+avalue
+nsfailed
+rv
+rv
+attrname
+truncate
+attrrequired
+prfalse
+prunichar
+iter
+iter
+iterend
+consolesvc
+consolesvc
+logstringmessage
+nsliteralstring
+ldap
+addressbook
+autocomplete
+formatter
+error
+parsing
+format
+premature
+end
+of
+after
+escape
+get
+nserror
+ldap
+addressbook
+autocomplete
+formatter
+error
+parsing
+format
+premature
+end
+of
+after
+escape
+nserrorillegalvalue
+aattrs
+avalue
+append
+nsconvertucstoutf
+nsdependentstring
+iter
+get
+iter
+nsok
+nsresult
+nsabldapautocompformatter
+parseattrname
+nsreadingiterator
+prunichar
+aiter
+nsreadingiterator
+prunichar
+aiterend
+prbool
+aattrrequired
+nscomptr
+nsiconsoleservice
+aconsolesvc
+nsacstring
+aattrname
+aiter
+aiter
+aiterend
+aconsolesvc
+aconsolesvc
+logstringmessage
+nsliteralstring
+ldap
+address
+book
+autocomplete
+formatter
+error
+parsing
+format
+missing
+get
+nserror
+ldap
+address
+book
+autocomplete
+formatter
+error
+parsing
+format
+missing
+nserrorillegalvalue
+aattrrequired
+aiter
+prunichar
+aattrrequired
+aiter
+prunichar
+aattrname
+append
+nsstaticcast
+aiter
+aiter
+nsok
+nsresult
+nsabldapautocompformatter
+appendfirstattrvalue
+nsacstring
+aattrname
+nsildapmessage
+amessage
+prbool
+aattrrequired
+nsacstring
+avalue
+pruint
+numvals
+prunichar
+values
+nsresult
+rv
+rv
+amessage
+getvalues
+promiseflatcstring
+aattrname
+get
+numvals
+values
+nsfailed
+rv
+rv
+nserrorldapdecodingerror
+nserroroutofmemory
+nserrorunexpected
+nserror
+nsldapautocompletesession
+onldapsearchentry
+unexpected
+code
+from
+amessage
+getvalues
+rv
+nserrorunexpected
+aattrrequired
+rv
+nsok
+avalue
+append
+nsconvertucstoutf
+values
+nsfreexpcomallocatedpointerarray
+numvals
+values
+nsok
+nsimethodimp
+nsabldapautocompformatter
+getnameformat
+nsastring
+anameformat
+anameformat
+mnameformat
+nsok
+nsimethodimp
+nsabldapautocompformatter
+setnameformat
+nsastring
+anameformat
+mnameformat
+anameformat
+nsok
+nsimethodimp
+nsabldapautocompformatter
+getaddressformat
+nsastring
+aaddressformat
+aaddressformat
+maddressformat
+nsok
+nsimethodimp
+nsabldapautocompformatter
+setaddressformat
+nsastring
+aaddressformat
+maddressformat
+aaddressformat
+nsok
+nsimethodimp
+nsabldapautocompformatter
+getcommentformat
+nsastring
+acommentformat
+acommentformat
+mcommentformat
+nsok
+nsimethodimp
+nsabldapautocompformatter
+setcommentformat
+nsastring
+acommentformat
+mcommentformat
+acommentformat
+nsok
+endif
\ No newline at end of file
@@ -0,0 +1,13 @@
+nsabldapcard
+nsabldapcard
+nsabldapcard
+nsabldapcard
+nsabldapcard
+nsimethodimp
+nsabldapcard
+editcardtodatabase
+auri
+nsok
+nsimplisupportsinherited
+nsabldapcard
+nsabcardproperty
\ No newline at end of file
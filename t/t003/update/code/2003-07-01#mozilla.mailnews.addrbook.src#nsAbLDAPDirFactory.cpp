@@ -0,0 +1,150 @@
+nsabldapdirfactory
+nsabutils
+nsiservicemanager
+nsirdfservice
+nsirdfresource
+nsiabdirectory
+nsabldapdirectory
+nsabdirfactoryservice
+nsiaddressbook
+nsenumeratorutils
+nsabbasecid
+nsimplisupports
+nsabldapdirfactory
+nsiabdirfactory
+nsabldapdirfactory
+nsabldapdirfactory
+nsabldapdirfactory
+nsabldapdirfactory
+nsimethodimp
+nsabldapdirfactory
+createdirectory
+nsiabdirectoryproperties
+aproperties
+nsisimpleenumerator
+adirectories
+nsensureargpointer
+aproperties
+nsensureargpointer
+adirectories
+nsresult
+rv
+nsxpidlcstring
+uri
+nsautostring
+description
+nsxpidlcstring
+prefname
+rv
+aproperties
+getdescription
+description
+nsensuresuccess
+rv
+rv
+rv
+aproperties
+geturi
+gettercopies
+uri
+nsensuresuccess
+rv
+rv
+rv
+aproperties
+getprefname
+gettercopies
+prefname
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+nsrdfcontractid
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+resource
+strncmp
+uri
+get
+ldap
+strncmp
+uri
+get
+ldaps
+nsxpidlcstring
+prefname
+rv
+aproperties
+getprefname
+gettercopies
+prefname
+nsensuresuccess
+rv
+rv
+nscautostring
+bridgeuri
+bridgeuri
+nsliteralcstring
+kldapdirectoryroot
+prefname
+rv
+rdf
+getresource
+bridgeuri
+getteraddrefs
+resource
+rv
+rdf
+getresource
+uri
+getteraddrefs
+resource
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabdirectory
+directory
+doqueryinterface
+resource
+rv
+nsensuresuccess
+rv
+rv
+rv
+directory
+setdirname
+description
+get
+nsensuresuccess
+rv
+rv
+rv
+directory
+setdirprefid
+prefname
+nsensuresuccess
+rv
+rv
+nsifaddref
+adirectories
+nssingletonenumerator
+directory
+adirectories
+nsok
+nserroroutofmemory
+nsimethodimp
+nsabldapdirfactory
+deletedirectory
+nsiabdirectory
+directory
+nsok
\ No newline at end of file
@@ -0,0 +1,1275 @@
+nsabldapdirectoryquery
+nsabboolexprtoldapfilter
+nsabldapproperties
+nsildaperrors
+nsildapoperation
+nsabutils
+nsiauthprompt
+nsistringbundle
+nsxpidlstring
+nsautolock
+nsiproxyobjectmanager
+prprf
+nsiwindowwatcher
+nsidomwindow
+nsicategorymanager
+nscategorymanagerutils
+nsabqueryldapmessagelistener
+nsildapmessagelistener
+nsdeclisupports
+nsdeclnsildapmessagelistener
+nsabqueryldapmessagelistener
+nsabldapdirectoryquery
+directoryquery
+print
+contextid
+nsildapurl
+url
+nsildapconnection
+connection
+nsiabdirectoryqueryarguments
+queryarguments
+nsiabdirectoryqueryresultlistener
+querylistener
+print
+resultlimit
+print
+timeout
+nsabqueryldapmessagelistener
+nsresult
+onldapmessagebind
+nsildapmessage
+amessage
+nsresult
+onldapmessagesearchentry
+nsildapmessage
+amessage
+nsiabdirectoryqueryresult
+result
+nsresult
+onldapmessagesearchresult
+nsildapmessage
+amessage
+nsiabdirectoryqueryresult
+result
+nsresult
+queryresultstatus
+nsisupportsarray
+properties
+nsiabdirectoryqueryresult
+result
+pruint
+resultstatus
+nsabldapdirectoryquery
+nsresult
+cancel
+nsresult
+initiate
+nsabldapdirectoryquery
+mdirectoryquery
+print
+mcontextid
+nscomptr
+nsildapurl
+murl
+nscomptr
+nsildapconnection
+mconnection
+nscomptr
+nsiabdirectoryqueryarguments
+mqueryarguments
+nscomptr
+nsiabdirectoryqueryresultlistener
+mquerylistener
+print
+mresultlimit
+print
+mtimeout
+prbool
+mbound
+prbool
+mfinished
+prbool
+minitialized
+prbool
+mcanceled
+nscomptr
+nsildapoperation
+msearchoperation
+prlock
+mlock
+nsimplthreadsafeisupports
+nsabqueryldapmessagelistener
+nsildapmessagelistener
+nsabqueryldapmessagelistener
+nsabqueryldapmessagelistener
+nsabldapdirectoryquery
+directoryquery
+print
+contextid
+nsildapurl
+url
+nsildapconnection
+connection
+nsiabdirectoryqueryarguments
+queryarguments
+nsiabdirectoryqueryresultlistener
+querylistener
+print
+resultlimit
+print
+timeout
+mdirectoryquery
+directoryquery
+mcontextid
+contextid
+murl
+url
+mconnection
+connection
+mqueryarguments
+queryarguments
+mquerylistener
+querylistener
+mresultlimit
+resultlimit
+mtimeout
+timeout
+mbound
+prfalse
+mfinished
+prfalse
+minitialized
+prfalse
+mcanceled
+prfalse
+mlock
+nsaddref
+mdirectoryquery
+nsabqueryldapmessagelistener
+nsabqueryldapmessagelistener
+mlock
+prdestroylock
+mlock
+nsrelease
+mdirectoryquery
+nsresult
+nsabqueryldapmessagelistener
+initiate
+minitialized
+prtrue
+nsok
+mlock
+prnewlock
+mlock
+nserroroutofmemory
+minitialized
+prtrue
+nsok
+nsresult
+nsabqueryldapmessagelistener
+cancel
+nsresult
+rv
+rv
+initiate
+nsensuresuccess
+rv
+rv
+nsautolock
+lock
+mlock
+mfinished
+prtrue
+mcanceled
+prtrue
+nsok
+mcanceled
+prtrue
+nsok
+nsimethodimp
+nsabqueryldapmessagelistener
+onldapmessage
+nsildapmessage
+amessage
+nsresult
+rv
+rv
+initiate
+nsensuresuccess
+rv
+rv
+print
+messagetype
+rv
+amessage
+gettype
+messagetype
+nsensuresuccess
+rv
+rv
+prbool
+canceloperation
+prfalse
+nsautolock
+lock
+mlock
+mfinished
+prtrue
+nsok
+messagetype
+nsildapmessage
+ressearchresult
+mfinished
+prtrue
+mcanceled
+prtrue
+mfinished
+prtrue
+canceloperation
+prtrue
+nscomptr
+nsiabdirectoryqueryresult
+queryresult
+canceloperation
+prfalse
+messagetype
+nsildapmessage
+resbind
+rv
+onldapmessagebind
+amessage
+nsensuresuccess
+rv
+rv
+nsildapmessage
+ressearchentry
+rv
+onldapmessagesearchentry
+amessage
+getteraddrefs
+queryresult
+nsensuresuccess
+rv
+rv
+nsildapmessage
+ressearchresult
+rv
+onldapmessagesearchresult
+amessage
+getteraddrefs
+queryresult
+nsensuresuccess
+rv
+rv
+msearchoperation
+rv
+msearchoperation
+abandon
+rv
+queryresultstatus
+nsnull
+getteraddrefs
+queryresult
+nsiabdirectoryqueryresult
+queryresultstopped
+queryresult
+rv
+mquerylistener
+onqueryitem
+queryresult
+rv
+nsimethodimp
+nsabqueryldapmessagelistener
+onldapinit
+nsildapconnection
+aconn
+nsresult
+astatus
+nsresult
+rv
+nsxpidlstring
+passwd
+nsensuresuccess
+astatus
+astatus
+mdirectoryquery
+mlogin
+isempty
+define
+nsutfautostring
+nscautostring
+nsutfautostring
+spec
+prbool
+status
+rv
+mdirectoryquery
+mdirectoryurl
+getspec
+spec
+nsfailed
+rv
+nserror
+nsabqueryldapmessagelistener
+onldapinit
+getspec
+failed
+nserrorfailure
+nscomptr
+nsistringbundleservice
+stringbundlesvc
+dogetservice
+nsstringbundlecontractid
+rv
+nsfailed
+rv
+nserror
+nsabqueryldapmessagelistener
+onldapinit
+error
+getting
+bundle
+service
+rv
+nscomptr
+nsistringbundle
+ldapbundle
+rv
+stringbundlesvc
+createbundle
+mozldap
+locale
+ldap
+properties
+getteraddrefs
+ldapbundle
+nsfailed
+rv
+nserror
+nsabqueryldapmessagelistener
+onldapinit
+error
+creating
+bundle
+mozldap
+locale
+ldap
+properties
+rv
+nsxpidlstring
+authprompttitle
+rv
+ldapbundle
+getstringfromname
+nsliteralstring
+authprompttitle
+get
+gettercopies
+authprompttitle
+nsfailed
+rv
+nserror
+nsabqueryldapmessagelistener
+onldapinit
+error
+getting
+authprompttitle
+from
+bundle
+mozldap
+locale
+ldap
+properties
+rv
+nscautostring
+host
+rv
+murl
+getasciihost
+host
+nsfailed
+rv
+nserrorfailure
+nsconvertasciitoucs
+hosttemp
+host
+prunichar
+hostarray
+hosttemp
+get
+nsxpidlstring
+authprompttext
+rv
+ldapbundle
+formatstringfromname
+nsliteralstring
+authprompttext
+get
+hostarray
+hostarray
+prunichar
+gettercopies
+authprompttext
+nsfailed
+rv
+nserror
+nsabqueryldapmessagelistener
+onldapinit
+error
+getting
+authprompttext
+from
+bundle
+mozldap
+locale
+ldap
+properties
+rv
+nscomptr
+nsiwindowwatcher
+windowwatchersvc
+dogetservice
+nswindowwatchercontractid
+rv
+nsfailed
+rv
+nserror
+nsabqueryldapmessagelistener
+onldapinit
+couldn
+get
+window
+watcher
+service
+rv
+nscomptr
+nsidomwindow
+abdomwindow
+rv
+windowwatchersvc
+getwindowbyname
+nsliteralstring
+addressbookwindow
+get
+nsnull
+getteraddrefs
+abdomwindow
+nsfailed
+rv
+nserror
+nsabqueryldapmessagelistener
+onldapinit
+error
+getting
+addressbook
+window
+rv
+nscomptr
+nsiauthprompt
+authprompter
+rv
+windowwatchersvc
+getnewauthprompter
+abdomwindow
+getteraddrefs
+authprompter
+nsfailed
+rv
+nserror
+nsabqueryldapmessagelistener
+onldapinit
+error
+getting
+auth
+prompter
+rv
+rv
+authprompter
+promptpassword
+authprompttitle
+get
+authprompttext
+get
+nsconvertutftoucs
+spec
+get
+nsiauthprompt
+savepasswordpermanently
+gettercopies
+passwd
+status
+nsfailed
+rv
+status
+prfalse
+nserrorfailure
+nscomptr
+nsildapoperation
+ldapoperation
+docreateinstance
+nsldapoperationcontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsildapmessagelistener
+proxylistener
+rv
+nsgetproxyforobject
+nsuithreadeventq
+nsgetiid
+nsildapmessagelistener
+nsstaticcast
+nsildapmessagelistener
+proxysync
+proxyalways
+getteraddrefs
+proxylistener
+rv
+ldapoperation
+init
+mconnection
+proxylistener
+nsnull
+nsensuresuccess
+rv
+rv
+rv
+ldapoperation
+simplebind
+nsconvertucstoutf
+passwd
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsabqueryldapmessagelistener
+onldapmessagebind
+nsildapmessage
+amessage
+mbound
+prtrue
+nsok
+print
+errcode
+nsresult
+rv
+amessage
+geterrorcode
+errcode
+nsensuresuccess
+rv
+rv
+errcode
+nsildaperrors
+success
+errcode
+nsildaperrors
+inappropriateauth
+errcode
+nsildaperrors
+invalidcredentials
+rv
+nscreateservicesfromcategory
+passwordmanager
+mdirectoryquery
+mdirectoryurl
+login
+failed
+nsfailed
+rv
+nserror
+nsldapautocompletesession
+forgetpassword
+error
+creating
+password
+manager
+service
+nsok
+msearchoperation
+docreateinstance
+nsldapoperationcontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiproxyobjectmanager
+proxymgr
+dogetservice
+nsxpcomproxycontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsildapmessagelistener
+proxylistener
+rv
+proxymgr
+getproxyforobject
+nsuithreadeventq
+nsgetiid
+nsildapmessagelistener
+proxysync
+proxyalways
+getteraddrefs
+proxylistener
+nsensuresuccess
+rv
+rv
+rv
+msearchoperation
+init
+mconnection
+proxylistener
+nsnull
+nsensuresuccess
+rv
+rv
+nscautostring
+dn
+rv
+murl
+getdn
+dn
+nsensuresuccess
+rv
+rv
+print
+scope
+rv
+murl
+getscope
+scope
+nsensuresuccess
+rv
+rv
+nscautostring
+filter
+rv
+murl
+getfilter
+filter
+nsensuresuccess
+rv
+rv
+charptrarrayguard
+attributes
+rv
+murl
+getattributes
+attributes
+getsizeaddr
+attributes
+getarrayaddr
+nsensuresuccess
+rv
+rv
+rv
+msearchoperation
+searchext
+dn
+scope
+filter
+attributes
+getsize
+attributes
+getarray
+mtimeout
+mresultlimit
+nsensuresuccess
+rv
+rv
+mbound
+prtrue
+rv
+nsresult
+nsabqueryldapmessagelistener
+onldapmessagesearchentry
+nsildapmessage
+amessage
+nsiabdirectoryqueryresult
+result
+nsresult
+rv
+nscomptr
+nsisupportsarray
+propertyvalues
+charptrarrayguard
+properties
+rv
+mqueryarguments
+getreturnproperties
+properties
+getsizeaddr
+properties
+getarrayaddr
+nsensuresuccess
+rv
+rv
+charptrarrayguard
+attrs
+rv
+amessage
+getattributes
+attrs
+getsizeaddr
+attrs
+getarrayaddr
+nsensuresuccess
+rv
+rv
+nscautostring
+propertyname
+pruint
+properties
+getsize
+propertyname
+assign
+properties
+nsabdirectoryquerypropertyvalue
+propertyvalue
+propertyname
+equals
+card
+nsiabcard
+nscautostring
+dn
+rv
+amessage
+getdn
+dn
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabcard
+card
+rv
+mdirectoryquery
+createcard
+murl
+dn
+get
+getteraddrefs
+card
+nsensuresuccess
+rv
+rv
+prbool
+hassetcardproperty
+prfalse
+rv
+mozillaldappropertyrelator
+createcardpropertyfromldapmessage
+amessage
+card
+hassetcardproperty
+nsensuresuccess
+rv
+rv
+hassetcardproperty
+prfalse
+propertyvalue
+nsabdirectoryquerypropertyvalue
+propertyname
+get
+card
+propertyvalue
+nserroroutofmemory
+mozillaldappropertyrelator
+findldappropertyfrommozilla
+propertyname
+get
+mozillaldappropertyrelation
+relation
+pruint
+attrs
+getsize
+relation
+mozillaldappropertyrelator
+findmozillapropertyfromldap
+attrs
+relation
+nscrt
+strcasecmp
+relation
+mozillaproperty
+propertyname
+get
+prunicharptrarrayguard
+vals
+rv
+amessage
+getvalues
+attrs
+vals
+getsizeaddr
+vals
+getarrayaddr
+nsensuresuccess
+rv
+rv
+vals
+getsize
+propertyvalue
+nsabdirectoryquerypropertyvalue
+propertyname
+get
+vals
+propertyvalue
+nserroroutofmemory
+propertyvalue
+nscomptr
+nsiabdirectoryquerypropertyvalue
+propertyvalue
+propertyvalue
+propertyvalue
+propertyvalues
+nsnewisupportsarray
+getteraddrefs
+propertyvalues
+propertyvalues
+appendelement
+propertyvalue
+propertyvalues
+nsok
+queryresultstatus
+propertyvalues
+result
+nsiabdirectoryqueryresult
+queryresultmatch
+nsresult
+nsabqueryldapmessagelistener
+onldapmessagesearchresult
+nsildapmessage
+amessage
+nsiabdirectoryqueryresult
+result
+mdirectoryquery
+removelistener
+mcontextid
+nsresult
+rv
+print
+errorcode
+rv
+amessage
+geterrorcode
+errorcode
+nsensuresuccess
+rv
+rv
+errorcode
+nsildaperrors
+success
+errorcode
+nsildaperrors
+sizelimitexceeded
+rv
+queryresultstatus
+nsnull
+result
+nsiabdirectoryqueryresult
+queryresultcomplete
+rv
+queryresultstatus
+nsnull
+result
+nsiabdirectoryqueryresult
+queryresulterror
+rv
+nsresult
+nsabqueryldapmessagelistener
+queryresultstatus
+nsisupportsarray
+properties
+nsiabdirectoryqueryresult
+result
+pruint
+resultstatus
+nsabdirectoryqueryresult
+queryresult
+nsabdirectoryqueryresult
+mcontextid
+mqueryarguments
+resultstatus
+resultstatus
+nsiabdirectoryqueryresult
+queryresultmatch
+properties
+queryresult
+nserroroutofmemory
+nsifaddref
+result
+queryresult
+nsok
+nsimplthreadsafeisupports
+nsabldapdirectoryquery
+nsiabdirectoryquery
+nsabldapdirectoryquery
+nsabldapdirectoryquery
+minitialized
+prfalse
+mcounter
+mlock
+nsnull
+nsabldapdirectoryquery
+nsabldapdirectoryquery
+mlock
+prdestroylock
+mlock
+nsresult
+nsabldapdirectoryquery
+initiate
+minitialized
+prtrue
+nsok
+mlock
+prnewlock
+mlock
+nserroroutofmemory
+minitialized
+prtrue
+nsok
+nsimethodimp
+nsabldapdirectoryquery
+doquery
+nsiabdirectoryqueryarguments
+arguments
+nsiabdirectoryqueryresultlistener
+listener
+print
+resultlimit
+print
+timeout
+print
+retval
+nsresult
+rv
+rv
+initiate
+nsensuresuccess
+rv
+rv
+nscautostring
+scope
+prbool
+dosubdirectories
+rv
+arguments
+getquerysubdirectories
+dosubdirectories
+nsensuresuccess
+rv
+rv
+dosubdirectories
+prtrue
+scope
+sub
+scope
+one
+nscautostring
+returnattributes
+rv
+getldapreturnattributes
+arguments
+returnattributes
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupports
+supportsexpression
+rv
+arguments
+getexpression
+getteraddrefs
+supportsexpression
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabbooleanexpression
+expression
+doqueryinterface
+supportsexpression
+rv
+nscstring
+filter
+rv
+nsabboolexprtoldapfilter
+convert
+expression
+filter
+nsensuresuccess
+rv
+rv
+filter
+isempty
+filter
+nsliteralcstring
+objectclass
+inetorgperson
+rv
+getldapurl
+getteraddrefs
+mdirectoryurl
+nsensuresuccess
+rv
+rv
+nscautostring
+host
+rv
+mdirectoryurl
+getasciihost
+host
+nsensuresuccess
+rv
+rv
+print
+port
+rv
+mdirectoryurl
+getport
+port
+nsensuresuccess
+rv
+rv
+nscautostring
+dn
+rv
+mdirectoryurl
+getdn
+dn
+nsensuresuccess
+rv
+rv
+pruint
+options
+rv
+mdirectoryurl
+getoptions
+options
+nsensuresuccess
+rv
+rv
+nscstring
+ldapsearchurlstring
+ldapsearchurlstring
+prsmprintf
+ldap
+options
+nsildapurl
+optsecure
+host
+get
+port
+dn
+get
+returnattributes
+get
+scope
+get
+filter
+get
+ldapsearchurlstring
+nserroroutofmemory
+ldapsearchurlstring
+ldapsearchurlstring
+prsmprintffree
+ldapsearchurlstring
+nscomptr
+nsildapurl
+url
+url
+docreateinstance
+nsldapurlcontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+url
+setspec
+ldapsearchurlstring
+nsensuresuccess
+rv
+rv
+nscomptr
+nsildapconnection
+ldapconnection
+rv
+getldapconnection
+getteraddrefs
+ldapconnection
+nsensuresuccess
+rv
+rv
+print
+contextid
+nsautolock
+lock
+mlock
+contextid
+mcounter
+nscomptr
+nsildapmessagelistener
+messagelistener
+nsabqueryldapmessagelistener
+messagelistener
+nsabqueryldapmessagelistener
+contextid
+url
+ldapconnection
+arguments
+listener
+resultlimit
+timeout
+messagelistener
+nserroroutofmemory
+messagelistener
+messagelistener
+nsvoidkey
+key
+nsreinterpretcast
+contextid
+nsautolock
+lock
+mlock
+mlisteners
+put
+key
+messagelistener
+retval
+contextid
+rv
+ldapconnection
+init
+host
+get
+port
+options
+mlogin
+messagelistener
+nsnull
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsabldapdirectoryquery
+stopquery
+print
+contextid
+nsresult
+rv
+rv
+initiate
+nsensuresuccess
+rv
+rv
+nsabqueryldapmessagelistener
+messagelistener
+nsautolock
+lock
+mlock
+nsvoidkey
+key
+nsreinterpretcast
+contextid
+messagelistener
+nsabqueryldapmessagelistener
+mlisteners
+remove
+key
+messagelistener
+nsok
+rv
+messagelistener
+cancel
+rv
+nsresult
+nsabldapdirectoryquery
+removelistener
+print
+contextid
+nsresult
+rv
+rv
+initiate
+nsensuresuccess
+rv
+rv
+nsautolock
+lock
+mlock
+nsvoidkey
+key
+nsreinterpretcast
+contextid
+mlisteners
+remove
+key
+nsok
+nsresult
+nsabldapdirectoryquery
+getldapreturnattributes
+nsiabdirectoryqueryarguments
+arguments
+nscstring
+returnattributes
+nsresult
+rv
+charptrarrayguard
+properties
+rv
+arguments
+getreturnproperties
+properties
+getsizeaddr
+properties
+getarrayaddr
+nsensuresuccess
+rv
+rv
+nscautostring
+propertyname
+pruint
+properties
+getsize
+propertyname
+assign
+properties
+propertyname
+equals
+card
+nsiabcard
+rv
+mozillaldappropertyrelator
+getallsupportedldapattributes
+returnattributes
+nsassertion
+nssucceeded
+rv
+getallsupportedldapattributes
+failed
+mozillaldappropertyrelation
+tableentry
+mozillaldappropertyrelator
+findldappropertyfrommozilla
+propertyname
+get
+tableentry
+returnattributes
+append
+returnattributes
+append
+tableentry
+ldapproperty
+rv
\ No newline at end of file
@@ -0,0 +1,384 @@
+nscomptr
+nsabldapreplicationquery
+nsabldapreplicationservice
+nsabldapreplicationdata
+nsildapurl
+nsabbasecid
+nsabldapproperties
+nsproxiedservice
+nsldap
+nsabutils
+nsdirprefs
+nsimplisupports
+nsabldapreplicationquery
+nsiabldapreplicationquery
+nsabldapreplicationquery
+nsabldapreplicationquery
+minitialized
+prfalse
+mdirserver
+nsnull
+nsabldapreplicationquery
+nsabldapreplicationquery
+dirdeleteserver
+mdirserver
+nsresult
+nsabldapreplicationquery
+initldapdata
+mdirserver
+dirserver
+prcalloc
+dirserver
+mdirserver
+nserrornullpointer
+dirinitserverwithtype
+mdirserver
+ldapdirectory
+mdirserver
+prefname
+nscrt
+strdup
+mdirprefname
+get
+dirgetprefsforoneserver
+mdirserver
+prfalse
+prfalse
+nscrt
+strcasecmp
+mdirserver
+filename
+kpersonaladdressbook
+mdirserver
+filename
+mdirserver
+filename
+prfreeif
+mdirserver
+filename
+mdirserver
+filename
+nsnull
+dirsetserverfilename
+mdirserver
+nsnull
+prfreeif
+mdirserver
+replinfo
+filename
+mdirserver
+replinfo
+filename
+nscrt
+strdup
+mdirserver
+filename
+nsresult
+rv
+nsok
+murl
+docreateinstance
+nsldapurlcontractid
+rv
+nsfailed
+rv
+rv
+rv
+murl
+setspec
+nsdependentcstring
+mdirserver
+uri
+nsfailed
+rv
+rv
+mconnection
+docreateinstance
+nsldapconnectioncontractid
+rv
+nsfailed
+rv
+rv
+moperation
+docreateinstance
+nsldapoperationcontractid
+rv
+rv
+nsimethodimp
+nsabldapreplicationquery
+connecttoldapserver
+nsildapurl
+aurl
+nsacstring
+aauthdn
+nsensureargpointer
+aurl
+minitialized
+nserrornotinitialized
+nscautostring
+host
+nsresult
+rv
+aurl
+gethost
+host
+nsfailed
+rv
+rv
+host
+isempty
+nserrorunexpected
+print
+port
+rv
+aurl
+getport
+port
+nsfailed
+rv
+rv
+port
+nserrorunexpected
+pruint
+options
+rv
+aurl
+getoptions
+options
+nsfailed
+rv
+nserrorunexpected
+nscomptr
+nsildapmessagelistener
+listener
+rv
+nsgetproxyforobject
+nscurrenteventq
+nsgetiid
+nsildapmessagelistener
+nsstaticcast
+nsildapmessagelistener
+mdataprocessor
+proxysync
+proxyalways
+getteraddrefs
+listener
+listener
+nserrorfailure
+print
+replicationstate
+nsiabldapprocessreplicationdata
+kidle
+rv
+mdataprocessor
+getreplicationstate
+replicationstate
+nsfailed
+rv
+rv
+replicationstate
+nsiabldapprocessreplicationdata
+kidle
+mconnection
+docreateinstance
+nsldapconnectioncontractid
+rv
+nsfailed
+rv
+rv
+moperation
+docreateinstance
+nsldapoperationcontractid
+rv
+nsfailed
+rv
+rv
+mconnection
+init
+host
+get
+port
+options
+nsildapurl
+optsecure
+prtrue
+prfalse
+aauthdn
+listener
+nsnull
+nsimethodimp
+nsabldapreplicationquery
+init
+nsacstring
+aprefname
+nsiwebprogresslistener
+aprogresslistener
+aprefname
+isempty
+nserrorunexpected
+mdirprefname
+aprefname
+nsresult
+rv
+initldapdata
+nsfailed
+rv
+rv
+mdataprocessor
+docreateinstance
+nsabldapprocessreplicationdatacontractid
+rv
+nsfailed
+rv
+rv
+minitialized
+prtrue
+mdataprocessor
+init
+aprogresslistener
+nsimethodimp
+nsabldapreplicationquery
+doreplicationquery
+connecttoldapserver
+murl
+nsliteralcstring
+nsimethodimp
+nsabldapreplicationquery
+queryallentries
+minitialized
+nserrornotinitialized
+nscautostring
+urlfilter
+nsresult
+rv
+murl
+getfilter
+urlfilter
+nsfailed
+rv
+rv
+nscautostring
+dn
+rv
+murl
+getdn
+dn
+nsfailed
+rv
+rv
+dn
+isempty
+nserrorunexpected
+print
+scope
+rv
+murl
+getscope
+scope
+nsfailed
+rv
+rv
+charptrarrayguard
+attributes
+rv
+murl
+getattributes
+attributes
+getsizeaddr
+attributes
+getarrayaddr
+nsfailed
+rv
+rv
+moperation
+searchext
+dn
+scope
+urlfilter
+attributes
+getsize
+attributes
+getarray
+nsimethodimp
+nsabldapreplicationquery
+cancelquery
+minitialized
+nserrornotinitialized
+mdataprocessor
+abort
+nsimethodimp
+nsabldapreplicationquery
+done
+prbool
+asuccess
+minitialized
+nserrornotinitialized
+nsresult
+rv
+nsok
+nscomptr
+nsiabldapreplicationservice
+replicationservice
+dogetservice
+nsabldapreplicationservicecontractid
+rv
+nssucceeded
+rv
+replicationservice
+done
+asuccess
+asuccess
+dirsaveprefsforoneserver
+mdirserver
+rv
+nsimethodimp
+nsabldapreplicationquery
+getoperation
+nsildapoperation
+aoperation
+nsensureargpointer
+aoperation
+minitialized
+nserrornotinitialized
+nsifaddref
+aoperation
+moperation
+nsok
+nsimethodimp
+nsabldapreplicationquery
+getconnection
+nsildapconnection
+aconnection
+nsensureargpointer
+aconnection
+minitialized
+nserrornotinitialized
+nsifaddref
+aconnection
+mconnection
+nsok
+nsimethodimp
+nsabldapreplicationquery
+getreplicationurl
+nsildapurl
+areplicationurl
+nsensureargpointer
+areplicationurl
+minitialized
+nserrornotinitialized
+nsifaddref
+areplicationurl
+murl
+nsok
+nsimethodimp
+nsabldapreplicationquery
+getreplicationserverinfo
+dirserver
+areplicationserverinfo
+nsensureargpointer
+areplicationserverinfo
+minitialized
+nserrornotinitialized
+areplicationserverinfo
+mdirserver
+nsok
\ No newline at end of file
@@ -0,0 +1,53 @@
+nsabmdbcard
+nsirdfservice
+nsiservicemanager
+nsrdfcid
+nsxpidlstring
+nsreadableutils
+nscomptr
+nsabbasecid
+nsaddrdatabase
+nsiaddrbooksession
+nsiaddressbook
+nsabmdbcard
+nsabmdbcard
+nsabmdbcard
+nsabmdbcard
+nsimplisupportsinherited
+nsabmdbcard
+nsabmdbcardproperty
+nsiabmdbcard
+nsresult
+nsabmdbcard
+notifypropertychanged
+property
+prunichar
+oldvalue
+prunichar
+newvalue
+nscomptr
+nsisupports
+supports
+nssucceeded
+queryinterface
+nsgetiid
+nsisupports
+getteraddrefs
+supports
+nsresult
+rv
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+rv
+nssucceeded
+rv
+absession
+notifyitempropertychanged
+supports
+property
+oldvalue
+newvalue
+nsok
\ No newline at end of file
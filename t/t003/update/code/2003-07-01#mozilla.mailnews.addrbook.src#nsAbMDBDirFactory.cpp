@@ -0,0 +1,338 @@
+nsabmdbdirfactory
+nsabutils
+nsirdfservice
+nsirdfresource
+nsrdfresource
+nsiabmdbdirectory
+nsabdirfactoryservice
+nsabmdbdirfactory
+nsiaddressbook
+nsiaddrbooksession
+nsiaddrdblistener
+nsenumeratorutils
+nsabbasecid
+nsimplisupports
+nsabmdbdirfactory
+nsiabdirfactory
+nsabmdbdirfactory
+nsabmdbdirfactory
+nsabmdbdirfactory
+nsabmdbdirfactory
+nsresult
+removemaillistdblisteners
+nsiaddrdatabase
+database
+nsiabdirectory
+directory
+nsresult
+rv
+nscomptr
+nsisupportsarray
+paddresslists
+rv
+directory
+getaddresslists
+getteraddrefs
+paddresslists
+nsensuresuccess
+rv
+rv
+pruint
+total
+rv
+paddresslists
+count
+total
+nsensuresuccess
+rv
+rv
+pruint
+total
+nscomptr
+nsisupports
+psupport
+rv
+paddresslists
+getelementat
+getteraddrefs
+psupport
+nsfailed
+rv
+nscomptr
+nsiabdirectory
+listdir
+doqueryinterface
+psupport
+rv
+nsfailed
+rv
+nscomptr
+nsiaddrdblistener
+dblistener
+doqueryinterface
+psupport
+rv
+nsfailed
+rv
+database
+removelistener
+dblistener
+nsok
+nsimethodimp
+nsabmdbdirfactory
+createdirectory
+nsiabdirectoryproperties
+aproperties
+nsisimpleenumerator
+retval
+nsensureargpointer
+aproperties
+nsensureargpointer
+retval
+nsresult
+rv
+nsxpidlcstring
+uri
+nsautostring
+description
+nsxpidlcstring
+prefname
+rv
+aproperties
+getdescription
+description
+nsensuresuccess
+rv
+rv
+rv
+aproperties
+geturi
+gettercopies
+uri
+nsensuresuccess
+rv
+rv
+rv
+aproperties
+getprefname
+gettercopies
+prefname
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+nsrdfcontractid
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+resource
+rv
+rdf
+getresource
+uri
+getteraddrefs
+resource
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabdirectory
+directory
+doqueryinterface
+resource
+rv
+nsensuresuccess
+rv
+rv
+rv
+directory
+setdirname
+description
+get
+nsensuresuccess
+rv
+rv
+rv
+directory
+setdirprefid
+prefname
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+rv
+nsensuresuccess
+rv
+rv
+nsfilespec
+dbpath
+rv
+absession
+getuserprofiledirectory
+dbpath
+nscomptr
+nsiaddrdatabase
+listdatabase
+dbpath
+nscautostring
+filename
+nsdependentcstring
+uristr
+uri
+substring
+uristr
+kmdbdirectoryrootlen
+equals
+kmdbdirectoryroot
+filename
+substring
+uristr
+kmdbdirectoryrootlen
+uristr
+length
+kmdbdirectoryrootlen
+dbpath
+filename
+get
+nscomptr
+nsiaddrdatabase
+addrdbfactory
+dogetservice
+nsaddrdatabasecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+addrdbfactory
+open
+dbpath
+prtrue
+getteraddrefs
+listdatabase
+prtrue
+dbpath
+nsensuresuccess
+rv
+rv
+rv
+listdatabase
+getmailinglistsfromdb
+directory
+nsensuresuccess
+rv
+rv
+rv
+removemaillistdblisteners
+listdatabase
+directory
+nsensuresuccess
+rv
+rv
+nssingletonenumerator
+cursor
+nssingletonenumerator
+directory
+cursor
+nserrornullpointer
+nsifaddref
+retval
+cursor
+rv
+nsimethodimp
+nsabmdbdirfactory
+deletedirectory
+nsiabdirectory
+directory
+directory
+nserrornullpointer
+nsresult
+rv
+nsok
+nscomptr
+nsisupportsarray
+paddresslists
+rv
+directory
+getaddresslists
+getteraddrefs
+paddresslists
+nsensuresuccess
+rv
+rv
+pruint
+total
+rv
+paddresslists
+count
+total
+nsensuresuccess
+rv
+rv
+pruint
+total
+nscomptr
+nsisupports
+psupport
+rv
+paddresslists
+getelementat
+getteraddrefs
+psupport
+nsfailed
+rv
+nscomptr
+nsiabdirectory
+listdir
+doqueryinterface
+psupport
+rv
+nsfailed
+rv
+nscomptr
+nsiabmdbdirectory
+dblistdir
+doqueryinterface
+psupport
+rv
+nsfailed
+rv
+rv
+directory
+deletedirectory
+listdir
+nsfailed
+rv
+rv
+dblistdir
+removeelementsfromaddresslist
+nsfailed
+rv
+paddresslists
+removeelement
+psupport
+nscomptr
+nsiabmdbdirectory
+dbdirectory
+doqueryinterface
+directory
+rv
+nsensuresuccess
+rv
+rv
+rv
+dbdirectory
+cleardatabase
+rv
\ No newline at end of file
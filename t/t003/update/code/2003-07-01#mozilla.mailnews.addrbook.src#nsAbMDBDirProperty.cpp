@@ -0,0 +1,222 @@
+nsabmdbdirproperty
+nsirdfservice
+nsirdfresource
+nsiservicemanager
+nsrdfcid
+nsxpidlstring
+nscomptr
+nsabbasecid
+nsaddrdatabase
+nsiabcard
+nsiablistener
+nsiaddrbooksession
+nsiaddressbook
+nsiabmdbcard
+mdb
+nsabmdbdirproperty
+nsabmdbdirproperty
+mdbrowid
+nsabmdbdirproperty
+nsabmdbdirproperty
+nsimplisupportsinherited
+nsabmdbdirproperty
+nsabdirproperty
+nsiabmdbdirectory
+nsimethodimp
+nsabmdbdirproperty
+getdbrowid
+pruint
+adbrowid
+adbrowid
+mdbrowid
+nsok
+nsimethodimp
+nsabmdbdirproperty
+setdbrowid
+pruint
+adbrowid
+mdbrowid
+adbrowid
+nsok
+nsimethodimp
+nsabmdbdirproperty
+addmaillisttodirectory
+nsiabdirectory
+maillist
+maddresslist
+nsnewisupportsarray
+getteraddrefs
+maddresslist
+pruint
+count
+maddresslist
+count
+count
+count
+nsresult
+err
+nscomptr
+nsiabdirectory
+plist
+doqueryelementat
+maddresslist
+err
+maillist
+plist
+nsok
+maddresslist
+appendelement
+maillist
+nsok
+nsimethodimp
+nsabmdbdirproperty
+addaddresstolist
+nsiabcard
+card
+maddresslist
+nsnewisupportsarray
+getteraddrefs
+maddresslist
+pruint
+count
+maddresslist
+count
+count
+count
+nsresult
+err
+nscomptr
+nsiabcard
+pcard
+doqueryelementat
+maddresslist
+err
+card
+pcard
+nsok
+maddresslist
+appendelement
+card
+nsok
+nsimethodimp
+nsabmdbdirproperty
+copydbmaillist
+nsiabmdbdirectory
+srclistdb
+nsresult
+err
+nsok
+nscomptr
+nsiabdirectory
+srclist
+doqueryinterface
+srclistdb
+nsfailed
+err
+nserrornullpointer
+copymaillist
+srclist
+pruint
+rowid
+srclistdb
+getdbrowid
+rowid
+setdbrowid
+rowid
+nsok
+nsimethodimp
+nsabmdbdirproperty
+adddirectory
+uriname
+nsiabdirectory
+retval
+nserrornotimplemented
+nsimethodimp
+nsabmdbdirproperty
+getdiruri
+retval
+nserrornotimplemented
+nsimethodimp
+nsabmdbdirproperty
+removeelementsfromaddresslist
+nserrornotimplemented
+nsimethodimp
+nsabmdbdirproperty
+removeemailaddressat
+pruint
+aindex
+nserrornotimplemented
+nsimethodimp
+nsabmdbdirproperty
+notifydiritemadded
+nsisupports
+item
+nserrornotimplemented
+nsimethodimp
+nsabmdbdirproperty
+cleardatabase
+nserrornotimplemented
+nsimethodimp
+nsabmdbdirproperty
+getvalueforcard
+nsiabcard
+card
+name
+prunichar
+value
+nsresult
+rv
+nscomptr
+nsiabmdbcard
+mdbcard
+doqueryinterface
+card
+rv
+nsfailed
+rv
+mdbcard
+nsok
+rv
+mdbcard
+getstringattribute
+name
+value
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsabmdbdirproperty
+setvalueforcard
+nsiabcard
+card
+name
+prunichar
+value
+nsresult
+rv
+nscomptr
+nsiabmdbcard
+mdbcard
+doqueryinterface
+card
+rv
+nsensuresuccess
+rv
+rv
+rv
+mdbcard
+setstringattribute
+name
+value
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsabmdbdirproperty
+hascardforemailaddress
+aemailaddress
+prbool
+acardexists
+nserrornotimplemented
\ No newline at end of file
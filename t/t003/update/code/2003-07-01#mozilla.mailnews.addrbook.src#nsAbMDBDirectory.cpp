@@ -0,0 +1,1653 @@
+nsabmdbdirectory
+nsirdfservice
+nsiservicemanager
+nsrdfcid
+nsxpidlstring
+nscomptr
+nsabbasecid
+nsaddrdatabase
+nsiabmdbcard
+nsiablistener
+nsiaddrbooksession
+nsiaddressbook
+nsiurl
+nsnetcid
+nsabdirectoryquery
+nsiabdirectoryqueryproxy
+nsabquerystringtoexpression
+nsabutils
+nsabmdbcardproperty
+mdb
+prprf
+nsabmdbdirectory
+nsabmdbdirectory
+nsrdfresource
+minitialized
+prfalse
+mismailinglist
+misqueryuri
+prfalse
+mperformingquery
+prfalse
+nsnewisupportsarray
+getteraddrefs
+msubdirectories
+nsabmdbdirectory
+nsabmdbdirectory
+mdatabase
+mdatabase
+removelistener
+msubdirectories
+pruint
+count
+nsresult
+rv
+rv
+msubdirectories
+count
+count
+nsassertion
+nssucceeded
+rv
+count
+failed
+print
+count
+msubdirectories
+removeelementat
+nsimplisupportsinherited
+nsabmdbdirectory
+nsrdfresource
+nsiabdirectory
+nsiabmdbdirectory
+nsiabdirectorysearch
+nsiaddrdblistener
+nsresult
+nsabmdbdirectory
+removecardfromaddresslist
+nsiabcard
+card
+nsresult
+rv
+nsok
+pruint
+listtotal
+print
+rv
+maddresslist
+count
+listtotal
+nsensuresuccess
+rv
+rv
+listtotal
+nscomptr
+nsiabdirectory
+listdir
+doqueryelementat
+maddresslist
+rv
+listdir
+nscomptr
+nsisupportsarray
+paddresslists
+listdir
+getaddresslists
+getteraddrefs
+paddresslists
+paddresslists
+pruint
+total
+rv
+paddresslists
+count
+total
+total
+nscomptr
+nsiabcard
+cardinlist
+doqueryelementat
+paddresslists
+rv
+prbool
+equals
+nsresult
+rv
+cardinlist
+equals
+card
+equals
+nssucceeded
+rv
+equals
+paddresslists
+removeelementat
+nsok
+nsimethodimp
+nsabmdbdirectory
+modifydirectory
+nsiabdirectory
+directory
+nsiabdirectoryproperties
+aproperties
+nserrornotimplemented
+nsimethodimp
+nsabmdbdirectory
+deletedirectory
+nsiabdirectory
+directory
+nsresult
+rv
+nsok
+directory
+nserrorfailure
+nscomptr
+nsiabmdbdirectory
+dbdirectory
+doqueryinterface
+directory
+rv
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+uri
+rv
+dbdirectory
+getdiruri
+gettercopies
+uri
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiaddrdatabase
+database
+nscomptr
+nsiaddressbook
+addressbook
+dogetservice
+nsaddressbookcontractid
+rv
+nssucceeded
+rv
+rv
+addressbook
+getabdatabasefromuri
+uri
+get
+getteraddrefs
+database
+nssucceeded
+rv
+rv
+database
+deletemaillist
+directory
+prtrue
+nssucceeded
+rv
+database
+commit
+nsaddrdbcommittype
+klargecommit
+maddresslist
+maddresslist
+removeelement
+directory
+rv
+msubdirectories
+removeelement
+directory
+notifyitemdeleted
+directory
+rv
+nsresult
+nsabmdbdirectory
+notifyitemchanged
+nsisupports
+item
+nsresult
+rv
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+absession
+notifyitempropertychanged
+item
+nsnull
+nsnull
+nsnull
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsabmdbdirectory
+notifypropertychanged
+nsiabdirectory
+list
+property
+prunichar
+oldvalue
+prunichar
+newvalue
+nsresult
+rv
+nscomptr
+nsisupports
+supports
+doqueryinterface
+list
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+absession
+notifyitempropertychanged
+supports
+property
+oldvalue
+newvalue
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsabmdbdirectory
+notifyitemadded
+nsisupports
+item
+nsresult
+rv
+nsok
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+rv
+nssucceeded
+rv
+absession
+notifydirectoryitemadded
+item
+nsok
+nsresult
+nsabmdbdirectory
+notifyitemdeleted
+nsisupports
+item
+nsresult
+rv
+nsok
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+rv
+nssucceeded
+rv
+absession
+notifydirectoryitemdeleted
+item
+nsok
+nsimethodimp
+nsabmdbdirectory
+init
+auri
+nsresult
+rv
+rv
+nsrdfresource
+init
+auri
+nsensuresuccess
+rv
+rv
+murinoquery
+auri
+nscomptr
+nsiuri
+uri
+docreateinstance
+nsstandardurlcontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+uri
+setspec
+nsdependentcstring
+auri
+nsensuresuccess
+rv
+rv
+misvaliduri
+prtrue
+nscomptr
+nsiurl
+url
+doqueryinterface
+uri
+nsensuresuccess
+rv
+rv
+nscautostring
+querystring
+rv
+url
+getquery
+querystring
+nscautostring
+path
+rv
+url
+getpath
+path
+mpath
+path
+querystring
+isempty
+mpath
+truncate
+path
+length
+querystring
+length
+murinoquery
+truncate
+murinoquery
+length
+querystring
+length
+mquerystring
+querystring
+misqueryuri
+prtrue
+rv
+nsimethodimp
+nsabmdbdirectory
+cleardatabase
+misqueryuri
+nserrornotimplemented
+mdatabase
+mdatabase
+removelistener
+mdatabase
+nsnull
+nsok
+nsimethodimp
+nsabmdbdirectory
+removeelementsfromaddresslist
+misqueryuri
+nserrornotimplemented
+maddresslist
+pruint
+count
+nsresult
+rv
+rv
+maddresslist
+count
+count
+nsassertion
+nssucceeded
+rv
+count
+failed
+print
+count
+maddresslist
+removeelementat
+maddresslist
+nsnull
+nsok
+nsimethodimp
+nsabmdbdirectory
+removeemailaddressat
+pruint
+aindex
+misqueryuri
+nserrornotimplemented
+maddresslist
+maddresslist
+removeelementat
+aindex
+nserrorfailure
+nsimethodimp
+nsabmdbdirectory
+adddirectory
+uriname
+nsiabdirectory
+childdir
+misqueryuri
+nserrornotimplemented
+childdir
+uriname
+nserrornullpointer
+nsresult
+rv
+nsok
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+rdf
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+res
+rv
+rdf
+getresource
+nsdependentcstring
+uriname
+getteraddrefs
+res
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabdirectory
+directory
+doqueryinterface
+res
+rv
+nsensuresuccess
+rv
+rv
+msubdirectories
+appendelement
+directory
+nsifaddref
+childdir
+directory
+rv
+nsimethodimp
+nsabmdbdirectory
+getdiruri
+uri
+uri
+muri
+uri
+nscrt
+strdup
+muri
+uri
+nscrt
+strdup
+nsok
+nsrdfnovalue
+nsimethodimp
+nsabmdbdirectory
+getchildnodes
+nsienumerator
+result
+misqueryuri
+nscomptr
+nsisupportsarray
+array
+nsnewisupportsarray
+getteraddrefs
+array
+array
+enumerate
+result
+minitialized
+minitialized
+prtrue
+msubdirectories
+enumerate
+result
+prstaticcallback
+prbool
+enumeratesearchcache
+nshashkey
+akey
+adata
+closure
+nsisupportsarray
+array
+nsisupportsarray
+closure
+nsiabcard
+card
+nsiabcard
+adata
+array
+appendelement
+card
+prtrue
+nsimethodimp
+nsabmdbdirectory
+getchildcards
+nsienumerator
+result
+misqueryuri
+nsresult
+rv
+rv
+startsearch
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupportsarray
+array
+nsnewisupportsarray
+getteraddrefs
+array
+msearchcache
+enumerate
+enumeratesearchcache
+array
+array
+enumerate
+result
+muri
+mismailinglist
+nsensuretrue
+strlen
+muri
+kmdbdirectoryrootlen
+nserrorunexpected
+strchr
+muri
+kmdbdirectoryrootlen
+mismailinglist
+mismailinglist
+nsresult
+rv
+getabdatabase
+nssucceeded
+rv
+mdatabase
+mismailinglist
+rv
+mdatabase
+enumeratecards
+result
+mismailinglist
+rv
+mdatabase
+enumeratelistaddresses
+result
+rv
+nsimethodimp
+nsabmdbdirectory
+deletecards
+nsisupportsarray
+cards
+nsresult
+rv
+nsok
+misqueryuri
+nscomptr
+nsiaddressbook
+addressbook
+dogetservice
+nsaddressbookcontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiaddrdatabase
+database
+rv
+addressbook
+getabdatabasefromuri
+murinoquery
+get
+getteraddrefs
+database
+nsensuresuccess
+rv
+rv
+rv
+database
+addlistener
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+resource
+rv
+grdfservice
+getresource
+murinoquery
+getteraddrefs
+resource
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabdirectory
+directory
+doqueryinterface
+resource
+rv
+nsensuresuccess
+rv
+rv
+rv
+directory
+deletecards
+cards
+nsensuresuccess
+rv
+rv
+rv
+database
+removelistener
+nsensuresuccess
+rv
+rv
+rv
+mdatabase
+rv
+getabdatabase
+nssucceeded
+rv
+mdatabase
+pruint
+cardcount
+pruint
+rv
+cards
+count
+cardcount
+nsensuresuccess
+rv
+rv
+cardcount
+nscomptr
+nsiabcard
+card
+nscomptr
+nsiabmdbcard
+dbcard
+card
+doqueryelementat
+cards
+rv
+nsensuresuccess
+rv
+rv
+dbcard
+doqueryinterface
+card
+rv
+nsensuresuccess
+rv
+rv
+card
+ismailinglist
+mdatabase
+deletecardfrommaillist
+card
+prtrue
+pruint
+cardtotal
+print
+rv
+maddresslist
+count
+cardtotal
+cardtotal
+nscomptr
+nsiabmdbcard
+dbarraycard
+doqueryelementat
+maddresslist
+rv
+dbarraycard
+pruint
+tableid
+rowid
+cardtableid
+cardrowid
+dbarraycard
+getdbtableid
+tableid
+dbarraycard
+getdbrowid
+rowid
+dbcard
+getdbtableid
+cardtableid
+dbcard
+getdbrowid
+cardrowid
+tableid
+cardtableid
+rowid
+cardrowid
+maddresslist
+removeelementat
+mdatabase
+deletecard
+card
+prtrue
+prbool
+bismaillist
+prfalse
+card
+getismaillist
+bismaillist
+bismaillist
+pruint
+rowid
+dbcard
+getdbrowid
+rowid
+listuri
+prsmprintf
+maillist
+ld
+muri
+rowid
+listuri
+nsresult
+rv
+nsok
+nscomptr
+nsirdfservice
+rdfservice
+dogetservice
+rdf
+rdf
+service
+rv
+nssucceeded
+rv
+nscomptr
+nsirdfresource
+listresource
+rv
+rdfservice
+getresource
+nsdependentcstring
+listuri
+getteraddrefs
+listresource
+nscomptr
+nsiabdirectory
+listdir
+doqueryinterface
+listresource
+rv
+nssucceeded
+rv
+maddresslist
+maddresslist
+removeelement
+listdir
+rv
+msubdirectories
+removeelement
+listdir
+listdir
+notifyitemdeleted
+listdir
+prsmprintffree
+listuri
+prsmprintffree
+listuri
+rv
+prsmprintffree
+listuri
+rv
+rv
+removecardfromaddresslist
+card
+nsensuresuccess
+rv
+rv
+mdatabase
+commit
+nsaddrdbcommittype
+klargecommit
+rv
+nsimethodimp
+nsabmdbdirectory
+hascard
+nsiabcard
+cards
+prbool
+hascard
+hascard
+nserrornullpointer
+misqueryuri
+nsvoidkey
+key
+nsstaticcast
+cards
+hascard
+msearchcache
+exists
+key
+nsok
+nsresult
+rv
+nsok
+mdatabase
+rv
+getabdatabase
+nssucceeded
+rv
+mdatabase
+nssucceeded
+rv
+rv
+mdatabase
+containscard
+cards
+hascard
+rv
+nsimethodimp
+nsabmdbdirectory
+hasdirectory
+nsiabdirectory
+dir
+prbool
+hasdir
+hasdir
+nserrornullpointer
+nsresult
+rv
+nserrorfailure
+nscomptr
+nsiabmdbdirectory
+dbdir
+doqueryinterface
+dir
+rv
+nsensuresuccess
+rv
+rv
+prbool
+bismailinglist
+prfalse
+dir
+getismaillist
+bismailinglist
+bismailinglist
+nsxpidlcstring
+uri
+rv
+dbdir
+getdiruri
+gettercopies
+uri
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiaddrdatabase
+database
+nscomptr
+nsiaddressbook
+addressbook
+dogetservice
+nsaddressbookcontractid
+rv
+nssucceeded
+rv
+rv
+addressbook
+getabdatabasefromuri
+uri
+get
+getteraddrefs
+database
+nssucceeded
+rv
+database
+nssucceeded
+rv
+rv
+database
+containsmaillist
+dir
+hasdir
+rv
+nsimethodimp
+nsabmdbdirectory
+createnewdirectory
+nsiabdirectoryproperties
+aproperties
+nserrornotimplemented
+nsimethodimp
+nsabmdbdirectory
+createdirectorybyuri
+prunichar
+dirname
+uri
+prbool
+migrating
+nserrornotimplemented
+nsimethodimp
+nsabmdbdirectory
+addmaillistwithkey
+nsiabdirectory
+list
+pruint
+key
+internaladdmaillist
+list
+key
+nsimethodimp
+nsabmdbdirectory
+addmaillist
+nsiabdirectory
+list
+internaladdmaillist
+list
+nsnull
+nsresult
+nsabmdbdirectory
+internaladdmaillist
+nsiabdirectory
+list
+pruint
+key
+misqueryuri
+nserrornotimplemented
+nsresult
+rv
+nsok
+mdatabase
+rv
+getabdatabase
+nsfailed
+rv
+mdatabase
+nserrorfailure
+nscomptr
+nsiabmdbdirectory
+dblist
+doqueryinterface
+list
+rv
+nsfailed
+rv
+nsabmdbdirproperty
+dblistproperty
+nsabmdbdirproperty
+nsaddref
+dblistproperty
+nscomptr
+nsiabdirectory
+newlist
+getteraddrefs
+nsstaticcast
+nsiabdirectory
+dblistproperty
+newlist
+copymaillist
+list
+list
+newlist
+dblist
+doqueryinterface
+list
+rv
+key
+mdatabase
+createmaillistandaddtodb
+list
+prtrue
+mdatabase
+createmaillistandaddtodbwithkey
+list
+prtrue
+key
+mdatabase
+commit
+nsaddrdbcommittype
+klargecommit
+pruint
+dbrowid
+dblist
+getdbrowid
+dbrowid
+nscautostring
+listuri
+listuri
+nsdependentcstring
+muri
+nsliteralcstring
+maillist
+listuri
+appendint
+dbrowid
+nscomptr
+nsiabdirectory
+newlist
+rv
+adddirectory
+listuri
+get
+getteraddrefs
+newlist
+nscomptr
+nsiabmdbdirectory
+dbnewlist
+doqueryinterface
+newlist
+nssucceeded
+rv
+newlist
+nscomptr
+nsiaddrdblistener
+listener
+doqueryinterface
+newlist
+rv
+nsensuresuccess
+rv
+rv
+rv
+mdatabase
+addlistener
+listener
+nsensuresuccess
+rv
+rv
+dbnewlist
+copydbmaillist
+dblist
+addmaillisttodirectory
+newlist
+notifyitemadded
+newlist
+rv
+nsimethodimp
+nsabmdbdirectory
+addcard
+nsiabcard
+card
+nsiabcard
+addedcard
+misqueryuri
+nserrornotimplemented
+nsresult
+rv
+nsok
+mdatabase
+rv
+getabdatabase
+nsfailed
+rv
+mdatabase
+nserrorfailure
+nscomptr
+nsiabcard
+newcard
+nscomptr
+nsiabmdbcard
+dbcard
+dbcard
+doqueryinterface
+card
+rv
+nsfailed
+rv
+dbcard
+dbcard
+docreateinstance
+nsabmdbcardcontractid
+rv
+nsensuresuccess
+rv
+rv
+newcard
+doqueryinterface
+dbcard
+rv
+nsensuresuccess
+rv
+rv
+rv
+newcard
+copy
+card
+nsensuresuccess
+rv
+rv
+newcard
+card
+dbcard
+setabdatabase
+mdatabase
+mismailinglist
+mdatabase
+createnewlistcardandaddtodb
+mdbrowid
+newcard
+prtrue
+mdatabase
+createnewcardandaddtodb
+newcard
+prtrue
+mdatabase
+commit
+nsaddrdbcommittype
+klargecommit
+nsifaddref
+addedcard
+newcard
+nsok
+nsimethodimp
+nsabmdbdirectory
+dropcard
+nsiabcard
+acard
+prbool
+needtocopycard
+nsensureargpointer
+acard
+misqueryuri
+nserrornotimplemented
+nsresult
+rv
+nsok
+prbool
+isnormal
+rv
+acard
+getisanormalcard
+isnormal
+isnormal
+nsok
+muri
+mismailinglist
+nsensuretrue
+strlen
+muri
+kmdbdirectoryrootlen
+nserrorunexpected
+strchr
+muri
+kmdbdirectoryrootlen
+mismailinglist
+mismailinglist
+mdatabase
+rv
+getabdatabase
+nsfailed
+rv
+mdatabase
+nserrorfailure
+nscomptr
+nsiabcard
+newcard
+nscomptr
+nsiabmdbcard
+dbcard
+needtocopycard
+dbcard
+docreateinstance
+nsabmdbcardcontractid
+rv
+nsensuresuccess
+rv
+rv
+newcard
+doqueryinterface
+dbcard
+rv
+nsensuresuccess
+rv
+rv
+rv
+newcard
+copy
+acard
+nsensuresuccess
+rv
+rv
+dbcard
+doqueryinterface
+acard
+rv
+nsensuresuccess
+rv
+rv
+newcard
+acard
+dbcard
+setabdatabase
+mdatabase
+mismailinglist
+needtocopycard
+mdatabase
+createnewcardandaddtodb
+newcard
+prtrue
+mdatabase
+createnewlistcardandaddtodb
+mdbrowid
+newcard
+prfalse
+mdatabase
+createnewcardandaddtodb
+newcard
+prtrue
+mdatabase
+commit
+nsaddrdbcommittype
+klargecommit
+nsok
+nsimethodimp
+nsabmdbdirectory
+editmaillisttodatabase
+uri
+nsiabcard
+listcard
+misqueryuri
+nserrornotimplemented
+nsresult
+rv
+nsok
+nscomptr
+nsiaddrdatabase
+listdatabase
+nscomptr
+nsiaddressbook
+addressbook
+dogetservice
+nsaddressbookcontractid
+rv
+nssucceeded
+rv
+rv
+addressbook
+getabdatabasefromuri
+uri
+getteraddrefs
+listdatabase
+listdatabase
+listdatabase
+editmaillist
+listcard
+prtrue
+listdatabase
+commit
+nsaddrdbcommittype
+klargecommit
+listdatabase
+nsnull
+nsok
+nserrorfailure
+nsimethodimp
+nsabmdbdirectory
+oncardattribchange
+pruint
+abcode
+nsiaddrdblistener
+instigator
+nsok
+nsimethodimp
+nsabmdbdirectory
+oncardentrychange
+pruint
+abcode
+nsiabcard
+card
+nsiaddrdblistener
+instigator
+nsensureargpointer
+card
+nscomptr
+nsisupports
+cardsupports
+doqueryinterface
+card
+nsresult
+rv
+abcode
+abnotifyinserted
+rv
+notifyitemadded
+cardsupports
+abnotifydeleted
+rv
+notifyitemdeleted
+cardsupports
+abnotifypropertychanged
+rv
+notifyitemchanged
+cardsupports
+rv
+nserrorunexpected
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsabmdbdirectory
+onlistentrychange
+pruint
+abcode
+nsiabdirectory
+list
+nsiaddrdblistener
+instigator
+nsresult
+rv
+nsok
+abcode
+abnotifypropertychanged
+list
+prbool
+bismaillist
+prfalse
+rv
+list
+getismaillist
+bismaillist
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabmdbdirectory
+dblist
+doqueryinterface
+list
+rv
+nsensuresuccess
+rv
+rv
+bismaillist
+nsxpidlstring
+plistname
+rv
+list
+getdirname
+gettercopies
+plistname
+nsensuresuccess
+rv
+rv
+rv
+notifypropertychanged
+list
+dirname
+nsnull
+plistname
+get
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsabmdbdirectory
+onannouncergoingaway
+nsiaddrdbannouncer
+instigator
+mdatabase
+mdatabase
+removelistener
+nsok
+nsimethodimp
+nsabmdbdirectory
+startsearch
+misqueryuri
+nserrorfailure
+nsresult
+rv
+mperformingquery
+prtrue
+msearchcache
+reset
+nscomptr
+nsiabdirectoryqueryarguments
+arguments
+docreateinstance
+nsabdirectoryqueryargumentscontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabbooleanexpression
+expression
+rv
+nsabquerystringtoexpression
+convert
+mquerystring
+get
+getteraddrefs
+expression
+nsensuresuccess
+rv
+rv
+rv
+arguments
+setexpression
+expression
+nsensuresuccess
+rv
+rv
+nscstringarray
+properties
+properties
+appendcstring
+nscautostring
+card
+nsiabcard
+charptrarrayguard
+returnproperties
+prfalse
+rv
+cstringarraytocharptrarray
+convert
+properties
+returnproperties
+getsizeaddr
+returnproperties
+getarrayaddr
+prfalse
+nsensuresuccess
+rv
+rv
+rv
+arguments
+setreturnproperties
+returnproperties
+getsize
+returnproperties
+getarray
+nsensuresuccess
+rv
+rv
+rv
+arguments
+setquerysubdirectories
+prfalse
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabdirectoryqueryresultlistener
+querylistener
+nsabdirsearchlistener
+querylistener
+nsabdirsearchlistener
+querylistener
+querylistener
+nscomptr
+nsirdfresource
+resource
+rv
+grdfservice
+getresource
+murinoquery
+getteraddrefs
+resource
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabdirectory
+directory
+doqueryinterface
+resource
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabdirectoryqueryproxy
+queryproxy
+docreateinstance
+nsabdirectoryqueryproxycontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+queryproxy
+initiate
+directory
+nsensuresuccess
+rv
+rv
+rv
+queryproxy
+doquery
+arguments
+querylistener
+mcontext
+nsok
+nsimethodimp
+nsabmdbdirectory
+stopsearch
+misqueryuri
+nserrorfailure
+nsok
+nsresult
+nsabmdbdirectory
+onsearchfinished
+print
+result
+mperformingquery
+prfalse
+nsok
+nsresult
+nsabmdbdirectory
+onsearchfoundcard
+nsiabcard
+card
+nsvoidkey
+key
+nsstaticcast
+card
+msearchcache
+put
+key
+card
+nsok
+nsresult
+nsabmdbdirectory
+getabdatabase
+mdatabase
+muri
+nsresult
+rv
+nscomptr
+nsiaddressbook
+addressbook
+dogetservice
+nsaddressbookcontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+addressbook
+getabdatabasefromuri
+muri
+getteraddrefs
+mdatabase
+nsensuresuccess
+rv
+rv
+rv
+mdatabase
+addlistener
+nsensuresuccess
+rv
+rv
+mdatabase
+nserrornullpointer
+nsok
+nsimethodimp
+nsabmdbdirectory
+hascardforemailaddress
+aemailaddress
+prbool
+acardexists
+nsresult
+rv
+nsok
+acardexists
+prfalse
+mdatabase
+rv
+getabdatabase
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabcard
+card
+mdatabase
+getcardfromattribute
+klowerpriemailcolumn
+aemailaddress
+prtrue
+getteraddrefs
+card
+card
+acardexists
+prtrue
+mdatabase
+getcardfromattribute
+kndemailcolumn
+aemailaddress
+prtrue
+getteraddrefs
+card
+card
+acardexists
+prtrue
+nsok
\ No newline at end of file
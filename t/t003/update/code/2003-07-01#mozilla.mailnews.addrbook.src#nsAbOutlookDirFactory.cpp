@@ -0,0 +1,172 @@
+nsaboutlookdirfactory
+nsabwinhelper
+nsiabdirectory
+nsirdfservice
+nsirdfresource
+nsrdfresource
+nsenumeratorutils
+nsabbasecid
+prlog
+ifdef
+prlogging
+prlogmoduleinfo
+gaboutlookdirfactorylog
+prnewlogmodule
+nsaboutlookdirfactorylog
+endif
+define
+printf
+args
+prlog
+nsaboutlookdirfactorylog
+prlogdebug
+args
+ifdef
+createdirectory
+undef
+createdirectory
+endif
+nsimplisupports
+nsaboutlookdirfactory
+nsiabdirfactory
+nsaboutlookdirfactory
+nsaboutlookdirfactory
+nsaboutlookdirfactory
+nsaboutlookdirfactory
+koutlookdirectoryscheme
+nsresult
+parseproperties
+nsiabdirectoryproperties
+aproperties
+nsabwintype
+awintype
+awintype
+nsabwintypeunknown
+nsxpidlcstring
+uri
+nsresult
+rv
+aproperties
+geturi
+gettercopies
+uri
+nsensuresuccess
+rv
+rv
+nscstring
+stub
+nscstring
+entry
+awintype
+getabwintype
+koutlookdirectoryscheme
+uri
+get
+stub
+entry
+nsok
+nsimethodimp
+nsaboutlookdirfactory
+createdirectory
+nsiabdirectoryproperties
+aproperties
+nsisimpleenumerator
+adirectories
+nsensureargpointer
+aproperties
+nsensureargpointer
+adirectories
+adirectories
+nsnull
+nsresult
+retcode
+nsok
+nsabwintype
+abtype
+nsabwintypeunknown
+retcode
+parseproperties
+aproperties
+abtype
+nsensuresuccess
+retcode
+retcode
+abtype
+nsabwintypeunknown
+nserrorfailure
+nsabwinhelperguard
+mapiaddbook
+abtype
+nsmapientryarray
+folders
+ulong
+nbfolders
+nscomptr
+nsisupportsarray
+directories
+retcode
+nsnewisupportsarray
+getteraddrefs
+directories
+nsensuresuccess
+retcode
+retcode
+mapiaddbook
+isok
+mapiaddbook
+getfolders
+folders
+nserrorfailure
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+nsrdfcontractid
+rdf
+service
+retcode
+nsensuresuccess
+retcode
+retcode
+nscautostring
+entryid
+nscautostring
+uri
+nscomptr
+nsirdfresource
+resource
+ulong
+folders
+mnbentries
+folders
+mentries
+tostring
+entryid
+buildabwinuri
+koutlookdirectoryscheme
+abtype
+uri
+uri
+append
+entryid
+retcode
+rdf
+getresource
+uri
+getteraddrefs
+resource
+nsensuresuccess
+retcode
+retcode
+directories
+appendelement
+resource
+nsnewarrayenumerator
+adirectories
+directories
+nsimethodimp
+nsaboutlookdirfactory
+deletedirectory
+nsiabdirectory
+adirectory
+nsok
\ No newline at end of file
@@ -0,0 +1,2705 @@
+nsaboutlookdirectory
+nsabwinhelper
+nsirdfservice
+nsabbasecid
+nsiabcard
+nsxpidlstring
+nsabdirectoryquery
+nsiabbooleanexpression
+nsiaddressbook
+nsiaddrbooksession
+nsabquerystringtoexpression
+nsabutils
+nsiproxyobjectmanager
+prlog
+prthread
+ifdef
+prlogging
+prlogmoduleinfo
+gaboutlookdirectorylog
+prnewlogmodule
+nsaboutlookdirectorylog
+endif
+define
+printf
+args
+prlog
+gaboutlookdirectorylog
+prlogdebug
+args
+nsintegerkey
+nshashkey
+nsintegerkey
+print
+ainteger
+minteger
+ainteger
+nsintegerkey
+pruint
+hashcode
+nsstaticcast
+pruint
+minteger
+prbool
+equals
+nshashkey
+akey
+akey
+nsreinterpretcast
+nsintegerkey
+akey
+minteger
+minteger
+nshashkey
+clone
+nsintegerkey
+minteger
+print
+minteger
+nsaboutlookdirectory
+nsaboutlookdirectory
+nsabdirectoryrdfresource
+nsabdirproperty
+nsabdirsearchlistenercontext
+mquerythreads
+prtrue
+mcurrentqueryid
+msearchcontext
+mabwintype
+nsabwintypeunknown
+mmapidata
+nsnull
+mmapidata
+nsmapientry
+mprotector
+prnewlock
+nsaboutlookdirectory
+nsaboutlookdirectory
+mmapidata
+mmapidata
+mprotector
+prdestroylock
+mprotector
+nsimplisupportsinherited
+nsaboutlookdirectory
+nsabdirectoryrdfresource
+nsiabdirectory
+nsiabdirectoryquery
+nsiabdirectorysearch
+nsimethodimp
+nsaboutlookdirectory
+init
+auri
+nsresult
+retcode
+nsabdirectoryrdfresource
+init
+auri
+nsensuresuccess
+retcode
+retcode
+nscautostring
+entry
+nscautostring
+stub
+mabwintype
+getabwintype
+koutlookdirectoryscheme
+murinoquery
+get
+stub
+entry
+mabwintype
+nsabwintypeunknown
+printf
+huge
+problem
+uri
+murinoquery
+nserrorinvalidarg
+nsabwinhelperguard
+mapiaddbook
+mabwintype
+nsstring
+prefix
+nsautostring
+unichars
+ulong
+objecttype
+mapiaddbook
+isok
+nserrorfailure
+mmapidata
+assign
+entry
+mapiaddbook
+getpropertylong
+mmapidata
+probjecttype
+objecttype
+printf
+cannot
+get
+type
+nserrorfailure
+mapiaddbook
+getpropertyustring
+mmapidata
+prdisplaynamew
+unichars
+printf
+cannot
+get
+name
+nserrorfailure
+mabwintype
+nsabwintypeoutlook
+prefix
+assign
+nsliteralstring
+op
+prefix
+assign
+nsliteralstring
+oe
+prefix
+append
+unichars
+setdirname
+prefix
+get
+objecttype
+mapidistlist
+setdirname
+unichars
+get
+setismaillist
+prtrue
+setismaillist
+prfalse
+updateaddresslist
+nsimethodimp
+nsaboutlookdirectory
+getchildnodes
+nsienumerator
+anodes
+anodes
+nserrornullpointer
+anodes
+nsnull
+nscomptr
+nsisupportsarray
+nodelist
+nsresult
+retcode
+nsok
+misqueryuri
+nsnewisupportsarray
+getteraddrefs
+nodelist
+retcode
+getchildnodes
+getteraddrefs
+nodelist
+nssucceeded
+retcode
+nodelist
+enumerate
+anodes
+retcode
+nsimethodimp
+nsaboutlookdirectory
+getchildcards
+nsienumerator
+acards
+acards
+nserrornullpointer
+acards
+nsnull
+nscomptr
+nsisupportsarray
+cardlist
+nsresult
+retcode
+mcardlist
+reset
+misqueryuri
+retcode
+startsearch
+nsnewisupportsarray
+getteraddrefs
+cardlist
+retcode
+getchildcards
+getteraddrefs
+cardlist
+nsnull
+nssucceeded
+retcode
+pruint
+nbcards
+nscomptr
+nsisupports
+element
+cardlist
+enumerate
+acards
+cardlist
+count
+nbcards
+pruint
+nbcards
+cardlist
+getelementat
+getteraddrefs
+element
+nsvoidkey
+newkey
+nsstaticcast
+element
+nscomptr
+nsisupports
+oldelement
+mcardlist
+get
+newkey
+oldelement
+mcardlist
+put
+newkey
+element
+nscomptr
+nsiabcard
+card
+doqueryinterface
+element
+retcode
+nsensuresuccess
+retcode
+retcode
+prbool
+ismaillist
+prfalse
+retcode
+card
+getismaillist
+ismaillist
+nsensuresuccess
+retcode
+retcode
+ismaillist
+nsxpidlcstring
+maillisturi
+retcode
+card
+getmaillisturi
+gettercopies
+maillisturi
+nsensuresuccess
+retcode
+retcode
+nscomptr
+nsirdfresource
+resource
+retcode
+grdfservice
+getresource
+maillisturi
+getteraddrefs
+resource
+nsensuresuccess
+retcode
+retcode
+nscomptr
+nsiabdirectory
+maillist
+doqueryinterface
+resource
+retcode
+nsensuresuccess
+retcode
+retcode
+maddresslist
+appendelement
+maillist
+notifyitemaddition
+maillist
+mismaillist
+maddresslist
+appendelement
+card
+notifyitemaddition
+card
+nsassertion
+oldelement
+element
+different
+card
+stored
+retcode
+nsimethodimp
+nsaboutlookdirectory
+hascard
+nsiabcard
+acard
+prbool
+ahascard
+acard
+ahascard
+nserrornullpointer
+nsvoidkey
+key
+nsstaticcast
+acard
+ahascard
+mcardlist
+exists
+key
+nsok
+nsimethodimp
+nsaboutlookdirectory
+hasdirectory
+nsiabdirectory
+adirectory
+prbool
+ahasdirectory
+adirectory
+ahasdirectory
+nserrornullpointer
+ahasdirectory
+maddresslist
+indexof
+adirectory
+nsok
+nsresult
+extractentryfromuri
+nsirdfresource
+aresource
+nscstring
+aentry
+aprefix
+aentry
+truncate
+aprefix
+nserrornullpointer
+nsxpidlcstring
+uri
+nsresult
+retcode
+aresource
+getvalue
+gettercopies
+uri
+nsensuresuccess
+retcode
+retcode
+nscautostring
+stub
+nsabwintype
+objtype
+getabwintype
+aprefix
+uri
+get
+stub
+aentry
+nsok
+nsresult
+extractcardentry
+nsiabcard
+acard
+nscstring
+aentry
+aentry
+truncate
+nsresult
+retcode
+nsok
+nscomptr
+nsirdfresource
+resource
+doqueryinterface
+acard
+retcode
+nsfailed
+retcode
+nsok
+extractentryfromuri
+resource
+aentry
+koutlookcardscheme
+nsresult
+extractdirectoryentry
+nsiabdirectory
+adirectory
+nscstring
+aentry
+aentry
+truncate
+nsresult
+retcode
+nsok
+nscomptr
+nsirdfresource
+resource
+doqueryinterface
+adirectory
+retcode
+nsfailed
+retcode
+nsok
+extractentryfromuri
+resource
+aentry
+koutlookdirectoryscheme
+nsimethodimp
+nsaboutlookdirectory
+deletecards
+nsisupportsarray
+acardlist
+misqueryuri
+nserrornotimplemented
+acardlist
+nserrornullpointer
+pruint
+nbcards
+nsresult
+retcode
+nsok
+nsabwinhelperguard
+mapiaddbook
+mabwintype
+mapiaddbook
+isok
+nserrorfailure
+retcode
+acardlist
+count
+nbcards
+nsensuresuccess
+retcode
+retcode
+pruint
+nscomptr
+nsisupports
+element
+nscautostring
+entrystring
+nsmapientry
+cardentry
+nbcards
+retcode
+acardlist
+getelementat
+getteraddrefs
+element
+nsensuresuccess
+retcode
+retcode
+nscomptr
+nsiabcard
+card
+doqueryinterface
+element
+retcode
+nsensuresuccess
+retcode
+retcode
+retcode
+extractcardentry
+card
+entrystring
+nssucceeded
+retcode
+entrystring
+isempty
+cardentry
+assign
+entrystring
+mapiaddbook
+deleteentry
+mmapidata
+cardentry
+printf
+cannot
+card
+entrystring
+get
+nsvoidkey
+key
+nsstaticcast
+element
+mcardlist
+remove
+key
+mismaillist
+maddresslist
+removeelement
+element
+retcode
+notifyitemdeletion
+element
+nsensuresuccess
+retcode
+retcode
+printf
+card
+doesn
+belong
+in
+directory
+nsok
+nsimethodimp
+nsaboutlookdirectory
+modifydirectory
+nsiabdirectory
+directory
+nsiabdirectoryproperties
+aproperties
+nserrornotimplemented
+nsimethodimp
+nsaboutlookdirectory
+deletedirectory
+nsiabdirectory
+adirectory
+misqueryuri
+nserrornotimplemented
+adirectory
+nserrornullpointer
+nsresult
+retcode
+nsok
+nsabwinhelperguard
+mapiaddbook
+mabwintype
+nscautostring
+entrystring
+mapiaddbook
+isok
+nserrorfailure
+retcode
+extractdirectoryentry
+adirectory
+entrystring
+nssucceeded
+retcode
+entrystring
+isempty
+nsmapientry
+directoryentry
+directoryentry
+assign
+entrystring
+mapiaddbook
+deleteentry
+mmapidata
+directoryentry
+printf
+cannot
+directory
+entrystring
+get
+maddresslist
+removeelement
+adirectory
+retcode
+notifyitemdeletion
+adirectory
+nsensuresuccess
+retcode
+retcode
+printf
+directory
+doesn
+belong
+to
+folder
+retcode
+nsimethodimp
+nsaboutlookdirectory
+addcard
+nsiabcard
+adata
+nsiabcard
+addedcard
+misqueryuri
+nserrornotimplemented
+nsensureargpointer
+adata
+nsresult
+retcode
+nsok
+prbool
+hascard
+prfalse
+retcode
+hascard
+adata
+hascard
+nsensuresuccess
+retcode
+retcode
+hascard
+printf
+has
+card
+nsifaddref
+addedcard
+adata
+nsok
+retcode
+createcard
+adata
+addedcard
+nsensuresuccess
+retcode
+retcode
+nsvoidkey
+newkey
+nsstaticcast
+addedcard
+mcardlist
+put
+newkey
+addedcard
+mismaillist
+maddresslist
+appendelement
+addedcard
+notifyitemaddition
+addedcard
+retcode
+nsimethodimp
+nsaboutlookdirectory
+dropcard
+nsiabcard
+adata
+prbool
+needtocopycard
+nscomptr
+nsiabcard
+addedcard
+addcard
+adata
+getteraddrefs
+addedcard
+nsimethodimp
+nsaboutlookdirectory
+addmaillist
+nsiabdirectory
+amaillist
+misqueryuri
+nserrornotimplemented
+amaillist
+nserrornullpointer
+mismaillist
+nsok
+nsresult
+retcode
+nsok
+nsabwinhelperguard
+mapiaddbook
+mabwintype
+nscautostring
+entrystring
+nsmapientry
+newentry
+prbool
+didcopy
+prfalse
+mapiaddbook
+isok
+nserrorfailure
+retcode
+extractdirectoryentry
+amaillist
+entrystring
+nssucceeded
+retcode
+entrystring
+isempty
+nsmapientry
+sourceentry
+sourceentry
+assign
+entrystring
+mapiaddbook
+copyentry
+mmapidata
+sourceentry
+newentry
+newentry
+mbytecount
+mapiaddbook
+createdistlist
+mmapidata
+newentry
+nserrorfailure
+didcopy
+prtrue
+newentry
+tostring
+entrystring
+nscautostring
+uri
+buildabwinuri
+koutlookdirectoryscheme
+mabwintype
+uri
+uri
+append
+entrystring
+nscomptr
+nsirdfresource
+resource
+retcode
+grdfservice
+getresource
+uri
+getteraddrefs
+resource
+nsensuresuccess
+retcode
+retcode
+nscomptr
+nsiabdirectory
+newlist
+doqueryinterface
+resource
+retcode
+nsensuresuccess
+retcode
+retcode
+didcopy
+retcode
+newlist
+copymaillist
+amaillist
+nsensuresuccess
+retcode
+retcode
+retcode
+newlist
+editmaillisttodatabase
+murinoquery
+get
+nsnull
+nsensuresuccess
+retcode
+retcode
+maddresslist
+appendelement
+newlist
+notifyitemaddition
+newlist
+retcode
+nsimethodimp
+nsaboutlookdirectory
+editmaillisttodatabase
+auri
+nsiabcard
+listcard
+misqueryuri
+nserrornotimplemented
+nsresult
+retcode
+nsok
+nsxpidlstring
+name
+nsabwinhelperguard
+mapiaddbook
+mabwintype
+mapiaddbook
+isok
+nserrorfailure
+retcode
+getdirname
+gettercopies
+name
+nsensuresuccess
+retcode
+retcode
+mapiaddbook
+setpropertyustring
+mmapidata
+prdisplaynamew
+name
+get
+nserrorfailure
+retcode
+commitaddresslist
+retcode
+outlooktableattr
+moutername
+ulong
+mmapiprop
+outlooktableattr
+outlooktablestringtoprop
+firstname
+prgivennamea
+lastname
+prsurnamea
+displayname
+prdisplaynamea
+nickname
+prnicknamea
+primaryemail
+premailaddressa
+workphone
+prbusinesstelephonenumbera
+homephone
+prhometelephonenumbera
+faxnumber
+prbusinessfaxnumbera
+pagernumber
+prpagertelephonenumbera
+cellularnumber
+prmobiletelephonenumbera
+homeaddress
+prhomeaddressstreeta
+homecity
+prhomeaddresscitya
+homestate
+prhomeaddressstateorprovincea
+homezipcode
+prhomeaddresspostalcodea
+homecountry
+prhomeaddresscountrya
+workaddress
+prbusinessaddressstreeta
+workcity
+prbusinessaddresscitya
+workstate
+prbusinessaddressstateorprovincea
+workzipcode
+prbusinessaddresspostalcodea
+workcountry
+prbusinessaddresscountrya
+jobtitle
+prtitlea
+department
+prdepartmentnamea
+company
+prcompanynamea
+webpage
+prbusinesshomepagea
+webpage
+prpersonalhomepagea
+birthyear
+prbirthday
+birthmonth
+prbirthday
+birthday
+prbirthday
+endif
+notes
+prcommenta
+pruint
+outlooktablenbprops
+outlooktablestringtoprop
+outlooktablestringtoprop
+ulong
+findpropertytag
+aname
+pruint
+outlooktablenbprops
+nscrt
+strcmp
+aname
+outlooktablestringtoprop
+moutername
+outlooktablestringtoprop
+mmapiprop
+nsresult
+buildrestriction
+nsiabbooleanconditionstring
+acondition
+srestriction
+arestriction
+prbool
+askipitem
+acondition
+nserrornullpointer
+askipitem
+prfalse
+nsabbooleanconditiontype
+conditiontype
+nsresult
+retcode
+nsok
+nsxpidlcstring
+name
+nsxpidlstring
+value
+ulong
+propertytag
+nscautostring
+valueascii
+retcode
+acondition
+getcondition
+conditiontype
+nsensuresuccess
+retcode
+retcode
+retcode
+acondition
+getname
+gettercopies
+name
+nsensuresuccess
+retcode
+retcode
+retcode
+acondition
+getvalue
+gettercopies
+value
+nsensuresuccess
+retcode
+retcode
+valueascii
+assignwithconversion
+value
+get
+propertytag
+findpropertytag
+name
+get
+propertytag
+askipitem
+prtrue
+retcode
+conditiontype
+nsiabbooleanconditiontypes
+exists
+arestriction
+rt
+resexist
+arestriction
+res
+resexist
+ulproptag
+propertytag
+nsiabbooleanconditiontypes
+doesnotexist
+arestriction
+rt
+resnot
+arestriction
+res
+resnot
+lpres
+srestriction
+arestriction
+res
+resnot
+lpres
+rt
+resexist
+arestriction
+res
+resnot
+lpres
+res
+resexist
+ulproptag
+propertytag
+nsiabbooleanconditiontypes
+contains
+arestriction
+rt
+rescontent
+arestriction
+res
+rescontent
+ulfuzzylevel
+flsubstring
+flloose
+arestriction
+res
+rescontent
+ulproptag
+propertytag
+arestriction
+res
+rescontent
+lpprop
+spropvalue
+arestriction
+res
+rescontent
+lpprop
+ulproptag
+propertytag
+arestriction
+res
+rescontent
+lpprop
+value
+lpsza
+nscrt
+strdup
+valueascii
+get
+nsiabbooleanconditiontypes
+doesnotcontain
+arestriction
+rt
+resnot
+arestriction
+res
+resnot
+lpres
+srestriction
+arestriction
+res
+resnot
+lpres
+rt
+rescontent
+arestriction
+res
+resnot
+lpres
+res
+rescontent
+ulfuzzylevel
+flsubstring
+flloose
+arestriction
+res
+resnot
+lpres
+res
+rescontent
+ulproptag
+propertytag
+arestriction
+res
+resnot
+lpres
+res
+rescontent
+lpprop
+spropvalue
+arestriction
+res
+resnot
+lpres
+res
+rescontent
+lpprop
+ulproptag
+propertytag
+arestriction
+res
+resnot
+lpres
+res
+rescontent
+lpprop
+value
+lpsza
+nscrt
+strdup
+valueascii
+get
+nsiabbooleanconditiontypes
+is
+arestriction
+rt
+rescontent
+arestriction
+res
+rescontent
+ulfuzzylevel
+flfullstring
+flloose
+arestriction
+res
+rescontent
+ulproptag
+propertytag
+arestriction
+res
+rescontent
+lpprop
+spropvalue
+arestriction
+res
+rescontent
+lpprop
+ulproptag
+propertytag
+arestriction
+res
+rescontent
+lpprop
+value
+lpsza
+nscrt
+strdup
+valueascii
+get
+nsiabbooleanconditiontypes
+isnot
+arestriction
+rt
+resnot
+arestriction
+res
+resnot
+lpres
+srestriction
+arestriction
+res
+resnot
+lpres
+rt
+rescontent
+arestriction
+res
+resnot
+lpres
+res
+rescontent
+ulfuzzylevel
+flfullstring
+flloose
+arestriction
+res
+resnot
+lpres
+res
+rescontent
+ulproptag
+propertytag
+arestriction
+res
+resnot
+lpres
+res
+rescontent
+lpprop
+spropvalue
+arestriction
+res
+resnot
+lpres
+res
+rescontent
+lpprop
+ulproptag
+propertytag
+arestriction
+res
+resnot
+lpres
+res
+rescontent
+lpprop
+value
+lpsza
+nscrt
+strdup
+valueascii
+get
+nsiabbooleanconditiontypes
+beginswith
+arestriction
+rt
+rescontent
+arestriction
+res
+rescontent
+ulfuzzylevel
+flprefix
+flloose
+arestriction
+res
+rescontent
+ulproptag
+propertytag
+arestriction
+res
+rescontent
+lpprop
+spropvalue
+arestriction
+res
+rescontent
+lpprop
+ulproptag
+propertytag
+arestriction
+res
+rescontent
+lpprop
+value
+lpsza
+nscrt
+strdup
+valueascii
+get
+nsiabbooleanconditiontypes
+endswith
+arestriction
+rt
+resproperty
+arestriction
+res
+resproperty
+relop
+relopre
+arestriction
+res
+resproperty
+ulproptag
+propertytag
+arestriction
+res
+resproperty
+lpprop
+spropvalue
+arestriction
+res
+resproperty
+lpprop
+ulproptag
+propertytag
+arestriction
+res
+resproperty
+lpprop
+value
+lpsza
+nscrt
+strdup
+valueascii
+get
+askipitem
+prtrue
+endif
+nsiabbooleanconditiontypes
+soundslike
+askipitem
+prtrue
+nsiabbooleanconditiontypes
+regexp
+arestriction
+rt
+resproperty
+arestriction
+res
+resproperty
+relop
+relopre
+arestriction
+res
+resproperty
+ulproptag
+propertytag
+arestriction
+res
+resproperty
+lpprop
+spropvalue
+arestriction
+res
+resproperty
+lpprop
+ulproptag
+propertytag
+arestriction
+res
+resproperty
+lpprop
+value
+lpsza
+nscrt
+strdup
+valueascii
+get
+askipitem
+prtrue
+endif
+nsiabbooleanconditiontypes
+lessthan
+arestriction
+rt
+resproperty
+arestriction
+res
+resproperty
+relop
+reloplt
+arestriction
+res
+resproperty
+ulproptag
+propertytag
+arestriction
+res
+resproperty
+lpprop
+spropvalue
+arestriction
+res
+resproperty
+lpprop
+ulproptag
+propertytag
+arestriction
+res
+resproperty
+lpprop
+value
+lpsza
+nscrt
+strdup
+valueascii
+get
+nsiabbooleanconditiontypes
+greaterthan
+arestriction
+rt
+resproperty
+arestriction
+res
+resproperty
+relop
+relopgt
+arestriction
+res
+resproperty
+ulproptag
+propertytag
+arestriction
+res
+resproperty
+lpprop
+spropvalue
+arestriction
+res
+resproperty
+lpprop
+ulproptag
+propertytag
+arestriction
+res
+resproperty
+lpprop
+value
+lpsza
+nscrt
+strdup
+valueascii
+get
+askipitem
+prtrue
+retcode
+nsresult
+buildrestriction
+nsiabbooleanexpression
+alevel
+srestriction
+arestriction
+alevel
+nserrornullpointer
+arestriction
+rt
+rescomment
+nsresult
+retcode
+nsok
+nsabbooleanoperationtype
+operationtype
+pruint
+nbexpressions
+nscomptr
+nsisupportsarray
+expressions
+retcode
+alevel
+getoperation
+operationtype
+nsensuresuccess
+retcode
+retcode
+retcode
+alevel
+getexpressions
+getteraddrefs
+expressions
+nsensuresuccess
+retcode
+retcode
+retcode
+expressions
+count
+nbexpressions
+nsensuresuccess
+retcode
+retcode
+nbexpressions
+printf
+error
+no
+expressions
+nsok
+operationtype
+nsiabbooleanoperationtypes
+not
+nbexpressions
+printf
+error
+unary
+operation
+not
+with
+multiple
+operands
+nsok
+lpsrestriction
+restrictionarray
+srestriction
+nbexpressions
+pruint
+realnbexpressions
+prbool
+skipitem
+prfalse
+pruint
+nscomptr
+nsisupports
+element
+nbexpressions
+retcode
+expressions
+getelementat
+getteraddrefs
+element
+nssucceeded
+retcode
+nscomptr
+nsiabbooleanconditionstring
+condition
+doqueryinterface
+element
+retcode
+nssucceeded
+retcode
+retcode
+buildrestriction
+condition
+restrictionarray
+skipitem
+nssucceeded
+retcode
+skipitem
+restrictionarray
+realnbexpressions
+printf
+cannot
+build
+restriction
+item
+retcode
+nscomptr
+nsiabbooleanexpression
+subexpression
+doqueryinterface
+element
+retcode
+nssucceeded
+retcode
+retcode
+buildrestriction
+subexpression
+restrictionarray
+nssucceeded
+retcode
+restrictionarray
+rt
+rescomment
+restrictionarray
+realnbexpressions
+printf
+cannot
+get
+item
+retcode
+printf
+cannot
+get
+item
+retcode
+restrictionarray
+realnbexpressions
+realnbexpressions
+operationtype
+nsiabbooleanoperationtypes
+or
+arestriction
+rt
+resor
+arestriction
+res
+resor
+lpres
+restrictionarray
+arestriction
+res
+resor
+cres
+realnbexpressions
+operationtype
+nsiabbooleanoperationtypes
+and
+arestriction
+rt
+resand
+arestriction
+res
+resand
+lpres
+restrictionarray
+arestriction
+res
+resand
+cres
+realnbexpressions
+printf
+unsupported
+operation
+operationtype
+realnbexpressions
+operationtype
+nsiabbooleanoperationtypes
+not
+arestriction
+rt
+resnot
+arestriction
+res
+resnot
+lpres
+srestriction
+memcpy
+arestriction
+res
+resnot
+lpres
+restrictionarray
+srestriction
+memcpy
+arestriction
+restrictionarray
+srestriction
+restrictionarray
+arestriction
+rt
+rescomment
+restrictionarray
+nsok
+nsresult
+buildrestriction
+nsiabdirectoryqueryarguments
+aarguments
+srestriction
+arestriction
+aarguments
+nserrornullpointer
+nsresult
+retcode
+nsok
+nscomptr
+nsiabbooleanexpression
+booleanquery
+retcode
+aarguments
+getexpression
+getteraddrefs
+booleanquery
+nsensuresuccess
+retcode
+retcode
+retcode
+buildrestriction
+booleanquery
+arestriction
+retcode
+destroyrestriction
+srestriction
+arestriction
+arestriction
+rt
+resand
+resor
+ulong
+arestriction
+res
+resand
+cres
+destroyrestriction
+arestriction
+res
+resand
+lpres
+arestriction
+res
+resand
+lpres
+rescomment
+rescontent
+proptype
+arestriction
+res
+rescontent
+ulproptag
+ptunicode
+nscrt
+free
+arestriction
+res
+rescontent
+lpprop
+value
+lpszw
+proptype
+arestriction
+res
+rescontent
+ulproptag
+ptstring
+nscrt
+free
+arestriction
+res
+rescontent
+lpprop
+value
+lpsza
+arestriction
+res
+rescontent
+lpprop
+resexist
+resnot
+destroyrestriction
+arestriction
+res
+resnot
+lpres
+arestriction
+res
+resnot
+lpres
+resbitmask
+rescompareprops
+resproperty
+proptype
+arestriction
+res
+resproperty
+ulproptag
+ptunicode
+nscrt
+free
+arestriction
+res
+resproperty
+lpprop
+value
+lpszw
+proptype
+arestriction
+res
+resproperty
+ulproptag
+ptstring
+nscrt
+free
+arestriction
+res
+resproperty
+lpprop
+value
+lpsza
+arestriction
+res
+resproperty
+lpprop
+ressize
+ressubrestriction
+nsresult
+fillpropertyvalues
+nsiabcard
+acard
+nsiabdirectoryqueryarguments
+aarguments
+nsisupportsarray
+avalues
+acard
+aarguments
+avalues
+nserrornullpointer
+avalues
+nsnull
+charptrarrayguard
+properties
+nscomptr
+nsisupportsarray
+values
+nsresult
+retcode
+nsok
+retcode
+aarguments
+getreturnproperties
+properties
+getsizeaddr
+properties
+getarrayaddr
+nsensuresuccess
+retcode
+retcode
+pruint
+nsabdirectoryquerypropertyvalue
+newvalue
+nsnull
+nscomptr
+nsiabdirectoryquerypropertyvalue
+propertyvalue
+properties
+getsize
+cpropname
+properties
+newvalue
+nsnull
+nscrt
+strcmp
+cpropname
+card
+nsiabcard
+nscomptr
+nsisupports
+bogusinterface
+doqueryinterface
+acard
+retcode
+nsensuresuccess
+retcode
+retcode
+newvalue
+nsabdirectoryquerypropertyvalue
+cpropname
+bogusinterface
+nsxpidlstring
+value
+retcode
+acard
+getcardvalue
+cpropname
+gettercopies
+value
+nsensuresuccess
+retcode
+retcode
+value
+isempty
+newvalue
+nsabdirectoryquerypropertyvalue
+cpropname
+value
+get
+newvalue
+values
+nsnewisupportsarray
+getteraddrefs
+values
+propertyvalue
+newvalue
+values
+appendelement
+propertyvalue
+avalues
+values
+nsaddref
+avalues
+retcode
+querythreadargs
+nsaboutlookdirectory
+mthis
+nscomptr
+nsiabdirectoryqueryarguments
+marguments
+nscomptr
+nsiabdirectoryqueryresultlistener
+mlistener
+print
+mresultlimit
+print
+mtimeout
+print
+mthreadid
+querythreadfunc
+aarguments
+querythreadargs
+arguments
+nsreinterpretcast
+querythreadargs
+aarguments
+aarguments
+arguments
+mthis
+executequery
+arguments
+marguments
+arguments
+mlistener
+arguments
+mresultlimit
+arguments
+mtimeout
+arguments
+mthreadid
+arguments
+nsresult
+nsaboutlookdirectory
+doquery
+nsiabdirectoryqueryarguments
+aarguments
+nsiabdirectoryqueryresultlistener
+alistener
+print
+aresultlimit
+print
+atimeout
+print
+areturnvalue
+aarguments
+alistener
+areturnvalue
+nserrornullpointer
+areturnvalue
+querythreadargs
+threadargs
+querythreadargs
+prthread
+newthread
+nsnull
+threadargs
+nserroroutofmemory
+threadargs
+mthis
+threadargs
+marguments
+aarguments
+threadargs
+mlistener
+alistener
+threadargs
+mresultlimit
+aresultlimit
+threadargs
+mtimeout
+atimeout
+prlock
+mprotector
+areturnvalue
+mcurrentqueryid
+prunlock
+mprotector
+threadargs
+mthreadid
+areturnvalue
+newthread
+prcreatethread
+pruserthread
+querythreadfunc
+threadargs
+prprioritynormal
+prglobalthread
+prunjoinablethread
+newthread
+threadargs
+nserroroutofmemory
+nsintegerkey
+newkey
+areturnvalue
+mquerythreads
+put
+newkey
+newthread
+nsok
+nsresult
+nsaboutlookdirectory
+stopquery
+print
+acontext
+nsintegerkey
+contextkey
+acontext
+prthread
+querythread
+nsreinterpretcast
+prthread
+mquerythreads
+get
+contextkey
+querythread
+printerrupt
+querythread
+mquerythreads
+remove
+contextkey
+nsok
+nsimethodimp
+nsaboutlookdirectory
+startsearch
+misqueryuri
+nserrornotimplemented
+nsresult
+retcode
+nsok
+retcode
+stopsearch
+nsensuresuccess
+retcode
+retcode
+mcardlist
+reset
+nscomptr
+nsiabbooleanexpression
+expression
+nscomptr
+nsiabdirectoryqueryarguments
+arguments
+docreateinstance
+nsabdirectoryqueryargumentscontractid
+retcode
+nsensuresuccess
+retcode
+retcode
+retcode
+nsabquerystringtoexpression
+convert
+mquerystring
+get
+getteraddrefs
+expression
+nsensuresuccess
+retcode
+retcode
+retcode
+arguments
+setexpression
+expression
+nsensuresuccess
+retcode
+retcode
+nscstringarray
+properties
+charptrarrayguard
+returnproperties
+prfalse
+properties
+appendcstring
+nscautostring
+card
+nsiabcard
+retcode
+cstringarraytocharptrarray
+convert
+properties
+returnproperties
+getsizeaddr
+returnproperties
+getarrayaddr
+prfalse
+nsensuresuccess
+retcode
+retcode
+retcode
+arguments
+setreturnproperties
+returnproperties
+getsize
+returnproperties
+getarray
+nsensuresuccess
+retcode
+retcode
+retcode
+arguments
+setquerysubdirectories
+prtrue
+nsensuresuccess
+retcode
+retcode
+nscomptr
+nsiabdirectoryqueryresultlistener
+proxylistener
+retcode
+nsgetproxyforobject
+nsuithreadeventq
+nsgetiid
+nsiabdirectoryqueryresultlistener
+nsstaticcast
+nsiabdirectoryqueryresultlistener
+nsabdirsearchlistener
+proxysync
+proxyalways
+getteraddrefs
+proxylistener
+nsensuresuccess
+retcode
+retcode
+doquery
+arguments
+proxylistener
+msearchcontext
+nsimethodimp
+nsaboutlookdirectory
+stopsearch
+misqueryuri
+nserrornotimplemented
+stopquery
+msearchcontext
+nsresult
+nsaboutlookdirectory
+onsearchfinished
+print
+aresult
+nsok
+nsresult
+nsaboutlookdirectory
+onsearchfoundcard
+nsiabcard
+acard
+nsvoidkey
+newkey
+nsstaticcast
+acard
+nsresult
+retcode
+nsok
+mcardlist
+put
+newkey
+acard
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+retcode
+nssucceeded
+retcode
+absession
+notifydirectoryitemadded
+acard
+retcode
+nsresult
+nsaboutlookdirectory
+executequery
+nsiabdirectoryqueryarguments
+aarguments
+nsiabdirectoryqueryresultlistener
+alistener
+print
+aresultlimit
+print
+atimeout
+print
+athreadid
+aarguments
+alistener
+nserrornullpointer
+srestriction
+arguments
+nsresult
+retcode
+nsok
+retcode
+buildrestriction
+aarguments
+arguments
+nsensuresuccess
+retcode
+retcode
+nscomptr
+nsisupportsarray
+resultsarray
+pruint
+nbresults
+retcode
+getchildcards
+getteraddrefs
+resultsarray
+arguments
+rt
+rescomment
+nsnull
+arguments
+destroyrestriction
+arguments
+nsensuresuccess
+retcode
+retcode
+retcode
+resultsarray
+count
+nbresults
+nsensuresuccess
+retcode
+retcode
+nscomptr
+nsiabdirectoryqueryresult
+result
+nsabdirectoryqueryresult
+newresult
+nsnull
+aresultlimit
+nbresults
+nsstaticcast
+pruint
+aresultlimit
+nbresults
+nsstaticcast
+pruint
+aresultlimit
+pruint
+nscomptr
+nsisupports
+element
+nscomptr
+nsisupportsarray
+propertyvalues
+nbresults
+retcode
+resultsarray
+getelementat
+getteraddrefs
+element
+nsensuresuccess
+retcode
+retcode
+nscomptr
+nsiabcard
+card
+doqueryinterface
+element
+retcode
+nsensuresuccess
+retcode
+retcode
+fillpropertyvalues
+card
+aarguments
+getteraddrefs
+propertyvalues
+newresult
+nsabdirectoryqueryresult
+aarguments
+nsiabdirectoryqueryresult
+queryresultmatch
+propertyvalues
+newresult
+nserroroutofmemory
+result
+newresult
+alistener
+onqueryitem
+result
+nsintegerkey
+hashkey
+athreadid
+mquerythreads
+remove
+hashkey
+newresult
+nsabdirectoryqueryresult
+aarguments
+nsiabdirectoryqueryresult
+queryresultcomplete
+result
+newresult
+alistener
+onqueryitem
+result
+retcode
+nsresult
+nsaboutlookdirectory
+getchildcards
+nsisupportsarray
+acards
+arestriction
+acards
+nserrornullpointer
+acards
+nsnull
+nsresult
+retcode
+nsok
+nscomptr
+nsisupportsarray
+cards
+nsabwinhelperguard
+mapiaddbook
+mabwintype
+nsmapientryarray
+cardentries
+lpsrestriction
+restriction
+lpsrestriction
+arestriction
+mapiaddbook
+isok
+nserrorfailure
+retcode
+nsnewisupportsarray
+getteraddrefs
+cards
+nsensuresuccess
+retcode
+retcode
+mapiaddbook
+getcards
+mmapidata
+restriction
+cardentries
+printf
+cannot
+get
+cards
+nserrorfailure
+nscautostring
+entryid
+nscautostring
+uriname
+nscomptr
+nsirdfresource
+resource
+nscomptr
+nsiabcard
+childcard
+ulong
+card
+card
+cardentries
+mnbentries
+card
+cardentries
+mentries
+card
+tostring
+entryid
+buildabwinuri
+koutlookcardscheme
+mabwintype
+uriname
+uriname
+append
+entryid
+childcard
+docreateinstance
+nsaboutlookcardcontractid
+retcode
+nsensuresuccess
+retcode
+retcode
+resource
+doqueryinterface
+childcard
+retcode
+nsensuresuccess
+retcode
+retcode
+retcode
+resource
+init
+uriname
+get
+nsensuresuccess
+retcode
+retcode
+cards
+appendelement
+childcard
+acards
+cards
+nsaddref
+acards
+retcode
+nsresult
+nsaboutlookdirectory
+getchildnodes
+nsisupportsarray
+anodes
+anodes
+nserrornullpointer
+anodes
+nsnull
+nsresult
+retcode
+nsok
+nscomptr
+nsisupportsarray
+nodes
+nsabwinhelperguard
+mapiaddbook
+mabwintype
+nsmapientryarray
+nodeentries
+mapiaddbook
+isok
+nserrorfailure
+retcode
+nsnewisupportsarray
+getteraddrefs
+nodes
+nsensuresuccess
+retcode
+retcode
+mapiaddbook
+getnodes
+mmapidata
+nodeentries
+printf
+cannot
+get
+nodes
+nserrorfailure
+nscautostring
+entryid
+nscautostring
+uriname
+nscomptr
+nsirdfresource
+resource
+ulong
+node
+node
+nodeentries
+mnbentries
+node
+nodeentries
+mentries
+node
+tostring
+entryid
+buildabwinuri
+koutlookdirectoryscheme
+mabwintype
+uriname
+uriname
+append
+entryid
+retcode
+grdfservice
+getresource
+uriname
+getteraddrefs
+resource
+nsensuresuccess
+retcode
+retcode
+nodes
+appendelement
+resource
+anodes
+nodes
+nsaddref
+anodes
+retcode
+nsresult
+nsaboutlookdirectory
+notifyitemdeletion
+nsisupports
+aitem
+nsresult
+retcode
+nsok
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+retcode
+nsensuresuccess
+retcode
+retcode
+retcode
+absession
+notifydirectoryitemdeleted
+aitem
+retcode
+nsresult
+nsaboutlookdirectory
+notifyitemaddition
+nsisupports
+aitem
+nsresult
+retcode
+nsok
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+retcode
+nsensuresuccess
+retcode
+retcode
+retcode
+absession
+notifydirectoryitemadded
+aitem
+retcode
+nsresult
+nsaboutlookdirectory
+commitaddresslist
+nsresult
+retcode
+nsok
+nscomptr
+nsisupportsarray
+oldlist
+pruint
+nbcards
+pruint
+mismaillist
+printf
+we
+are
+in
+mailing
+list
+no
+commit
+can
+be
+done
+nserrorunexpected
+retcode
+getchildcards
+getteraddrefs
+oldlist
+nsnull
+nsensuresuccess
+retcode
+retcode
+retcode
+maddresslist
+count
+nbcards
+nsensuresuccess
+retcode
+retcode
+nscomptr
+nsisupports
+element
+nscomptr
+nsiabcard
+newcard
+nbcards
+retcode
+maddresslist
+getelementat
+getteraddrefs
+element
+nsensuresuccess
+retcode
+retcode
+oldlist
+removeelement
+element
+nscomptr
+nsiabcard
+card
+doqueryinterface
+element
+retcode
+nsensuresuccess
+retcode
+retcode
+retcode
+createcard
+card
+getteraddrefs
+newcard
+nsensuresuccess
+retcode
+retcode
+maddresslist
+replaceelementat
+newcard
+retcode
+deletecards
+oldlist
+retcode
+nsresult
+nsaboutlookdirectory
+updateaddresslist
+nsresult
+retcode
+sok
+mismaillist
+retcode
+getchildcards
+getteraddrefs
+maddresslist
+nsnull
+retcode
+getchildnodes
+getteraddrefs
+maddresslist
+retcode
+nsresult
+nsaboutlookdirectory
+createcard
+nsiabcard
+adata
+nsiabcard
+anewcard
+adata
+anewcard
+nserrornullpointer
+anewcard
+nsnull
+nsresult
+retcode
+nsok
+nsabwinhelperguard
+mapiaddbook
+mabwintype
+nsmapientry
+newentry
+nscautostring
+entrystring
+prbool
+didcopy
+prfalse
+mapiaddbook
+isok
+nserrorfailure
+retcode
+extractcardentry
+adata
+entrystring
+nssucceeded
+retcode
+entrystring
+isempty
+nsmapientry
+sourceentry
+sourceentry
+assign
+entrystring
+mismaillist
+mapiaddbook
+copyentry
+mmapidata
+sourceentry
+newentry
+didcopy
+prtrue
+mapiaddbook
+createentry
+mmapidata
+newentry
+newentry
+mbytecount
+mismaillist
+nsmapientry
+parententry
+nsmapientry
+temporaryentry
+mapiaddbook
+getdefaultcontainer
+parententry
+nserrorfailure
+mapiaddbook
+createentry
+parententry
+temporaryentry
+nserrorfailure
+mapiaddbook
+copyentry
+mmapidata
+temporaryentry
+newentry
+nserrorfailure
+mapiaddbook
+deleteentry
+parententry
+temporaryentry
+nserrorfailure
+mapiaddbook
+createentry
+mmapidata
+newentry
+nserrorfailure
+newentry
+tostring
+entrystring
+nscautostring
+uri
+buildabwinuri
+koutlookcardscheme
+mabwintype
+uri
+uri
+append
+entrystring
+nscomptr
+nsirdfresource
+resource
+nscomptr
+nsiabcard
+newcard
+docreateinstance
+nsaboutlookcardcontractid
+retcode
+nsensuresuccess
+retcode
+retcode
+resource
+doqueryinterface
+newcard
+retcode
+nsensuresuccess
+retcode
+retcode
+retcode
+resource
+init
+uri
+get
+nsensuresuccess
+retcode
+retcode
+didcopy
+retcode
+newcard
+copy
+adata
+nsensuresuccess
+retcode
+retcode
+retcode
+newcard
+editcardtodatabase
+murinoquery
+get
+nsensuresuccess
+retcode
+retcode
+anewcard
+newcard
+nsaddref
+anewcard
+retcode
\ No newline at end of file
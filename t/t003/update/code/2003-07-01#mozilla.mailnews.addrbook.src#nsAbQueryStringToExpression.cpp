@@ -0,0 +1,444 @@
+nsabquerystringtoexpression
+nsicomponentmanager
+nsiservicemanager
+nscomptr
+nsxpidlstring
+nsstring
+nsisupportsarray
+nsitexttosuburi
+nsabbooleanexpression
+nsabbasecid
+nscrt
+nsresult
+nsabquerystringtoexpression
+convert
+querystring
+nsiabbooleanexpression
+expression
+nsresult
+rv
+nscautostring
+querystring
+stripwhitespace
+querystring
+get
+nscomptr
+nsisupports
+rv
+parseexpression
+querystring
+getteraddrefs
+nsensuresuccess
+rv
+rv
+querystring
+nserrorfailure
+nscomptr
+nsiabbooleanexpression
+doqueryinterface
+rv
+nsensuresuccess
+rv
+rv
+nsifaddref
+expression
+rv
+nsresult
+nsabquerystringtoexpression
+parseexpression
+index
+nsisupports
+expression
+nsresult
+rv
+index
+nserrorfailure
+indexbracket
+index
+indexbracket
+indexbracket
+indexbracket
+indexbracket
+indexbracket
+nserrorfailure
+indexbracket
+index
+nserrorfailure
+indexbracket
+nsxpidlcstring
+operation
+rv
+parseoperationentry
+index
+indexbracket
+gettercopies
+operation
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabbooleanexpression
+rv
+createbooleanexpression
+operation
+getteraddrefs
+nsensuresuccess
+rv
+rv
+index
+indexbracket
+rv
+parseexpressions
+index
+nsensuresuccess
+rv
+rv
+nsifaddref
+expression
+indexbracket
+nscomptr
+nsiabbooleanconditionstring
+conditionstring
+rv
+parsecondition
+index
+indexbracket
+getteraddrefs
+conditionstring
+nsensuresuccess
+rv
+rv
+nsifaddref
+expression
+conditionstring
+index
+nserrorfailure
+index
+nsok
+nsresult
+nsabquerystringtoexpression
+parseexpressions
+index
+nsiabbooleanexpression
+expression
+nsresult
+rv
+nscomptr
+nsisupportsarray
+expressions
+nsnewisupportsarray
+getteraddrefs
+expressions
+index
+nscomptr
+nsisupports
+childexpression
+rv
+parseexpression
+index
+getteraddrefs
+childexpression
+nsensuresuccess
+rv
+rv
+expressions
+appendelement
+childexpression
+index
+nserrorfailure
+index
+nserrorfailure
+expression
+setexpressions
+expressions
+nsok
+nsresult
+nsabquerystringtoexpression
+parsecondition
+index
+indexbracketclose
+nsiabbooleanconditionstring
+conditionstring
+nsresult
+rv
+index
+nsxpidlcstring
+entries
+rv
+parseconditionentry
+index
+indexbracketclose
+gettercopies
+entries
+nsensuresuccess
+rv
+rv
+index
+indexbracketclose
+index
+indexbracketclose
+nserrorfailure
+nscomptr
+nsiabbooleanconditionstring
+rv
+createbooleanconditionstring
+entries
+entries
+entries
+getteraddrefs
+nsensuresuccess
+rv
+rv
+nsifaddref
+conditionstring
+nsok
+nsresult
+nsabquerystringtoexpression
+parseconditionentry
+index
+indexbracketclose
+entry
+indexdeliminator
+index
+indexdeliminator
+indexbracketclose
+indexdeliminator
+indexdeliminator
+entrylength
+indexdeliminator
+index
+entrylength
+entry
+nscrt
+strndup
+index
+entrylength
+entry
+indexdeliminator
+indexbracketclose
+index
+indexdeliminator
+index
+indexdeliminator
+nsok
+nsresult
+nsabquerystringtoexpression
+parseoperationentry
+indexbracketopen
+indexbracketopen
+operation
+operationlength
+indexbracketopen
+indexbracketopen
+operationlength
+operation
+nscrt
+strndup
+indexbracketopen
+operationlength
+operation
+nsok
+nsresult
+nsabquerystringtoexpression
+createbooleanexpression
+operation
+nsiabbooleanexpression
+expression
+nsabbooleanoperationtype
+op
+nscrt
+strcasecmp
+operation
+op
+nsiabbooleanoperationtypes
+and
+nscrt
+strcasecmp
+operation
+op
+nsiabbooleanoperationtypes
+or
+nscrt
+strcasecmp
+operation
+op
+nsiabbooleanoperationtypes
+not
+nserrorfailure
+nsresult
+rv
+nscomptr
+nsiabbooleanexpression
+expr
+docreateinstance
+nsbooleanexpressioncontractid
+rv
+nsensuresuccess
+rv
+rv
+nsifaddref
+expression
+expr
+rv
+expr
+setoperation
+op
+rv
+nsresult
+nsabquerystringtoexpression
+createbooleanconditionstring
+attribute
+condition
+value
+nsiabbooleanconditionstring
+conditionstring
+attribute
+condition
+value
+nserrorfailure
+nsabbooleanconditiontype
+nscrt
+strcasecmp
+condition
+nsiabbooleanconditiontypes
+is
+nscrt
+strcasecmp
+condition
+nsiabbooleanconditiontypes
+isnot
+nscrt
+strcasecmp
+condition
+lt
+nsiabbooleanconditiontypes
+lessthan
+nscrt
+strcasecmp
+condition
+gt
+nsiabbooleanconditiontypes
+greaterthan
+nscrt
+strcasecmp
+condition
+bw
+nsiabbooleanconditiontypes
+beginswith
+nscrt
+strcasecmp
+condition
+ew
+nsiabbooleanconditiontypes
+endswith
+nscrt
+strcasecmp
+condition
+nsiabbooleanconditiontypes
+contains
+nscrt
+strcasecmp
+condition
+nsiabbooleanconditiontypes
+doesnotcontain
+nscrt
+strcasecmp
+condition
+nsiabbooleanconditiontypes
+soundslike
+nscrt
+strcasecmp
+condition
+regex
+nsiabbooleanconditiontypes
+regexp
+nserrorfailure
+nsresult
+rv
+nscomptr
+nsiabbooleanconditionstring
+cs
+docreateinstance
+nsbooleanconditionstringcontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+cs
+setcondition
+nsensuresuccess
+rv
+rv
+nscomptr
+nsitexttosuburi
+texttosuburi
+dogetservice
+nsitexttosuburicontractid
+rv
+nssucceeded
+rv
+nsxpidlstring
+attributeucs
+nsxpidlstring
+valueucs
+rv
+texttosuburi
+unescapeandconvert
+utf
+attribute
+gettercopies
+attributeucs
+nsensuresuccess
+rv
+rv
+rv
+texttosuburi
+unescapeandconvert
+utf
+value
+gettercopies
+valueucs
+nsensuresuccess
+rv
+rv
+nsconvertucstoutf
+attributeutf
+attributeucs
+rv
+cs
+setname
+attributeutf
+get
+nsensuresuccess
+rv
+rv
+rv
+cs
+setvalue
+valueucs
+nsensuresuccess
+rv
+rv
+nsconvertutftoucs
+valueucs
+value
+rv
+cs
+setname
+attribute
+nsensuresuccess
+rv
+rv
+rv
+cs
+setvalue
+valueucs
+get
+nsensuresuccess
+rv
+rv
+nsifaddref
+conditionstring
+cs
+nsok
\ No newline at end of file
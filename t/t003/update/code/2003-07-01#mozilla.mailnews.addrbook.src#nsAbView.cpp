@@ -0,0 +1,2506 @@
+nsabview
+nsisupports
+nsirdfservice
+nscomptr
+nsiservicemanager
+nsiabcard
+nsilocale
+nsilocaleservice
+prmem
+nscollationcid
+nsiaddrbooksession
+nsabbasecid
+nsxpcom
+nsisupportsprimitives
+nsiprefservice
+nsiprefbranch
+nsiprefbranchinternal
+nsistringbundle
+nsipreflocalizedstring
+nsiaddrdatabase
+rdf
+define
+cardnotfound
+define
+allrows
+define
+prefmailaddrbooklastnamefirst
+mail
+addrbook
+lastnamefirst
+define
+prefmailaddrbookdisplaynameautogeneration
+mail
+addrbook
+displayname
+autogeneration
+define
+prefmailaddrbookdisplaynamelastnamefirst
+mail
+addrbook
+displayname
+lastnamefirst
+define
+generatednamecolumnid
+generatedname
+nsdefinecid
+kcollationfactorycid
+nscollationfactorycid
+nsimplisupports
+nsabview
+nsiabview
+nsitreeview
+nsiablistener
+nsiobserver
+nsabview
+nsabview
+mmaillistatom
+getteraddrefs
+nsnewatom
+maillist
+msuppressselectionchange
+prfalse
+msuppresscountchange
+prfalse
+mgeneratednameformat
+nsabview
+nsabview
+mdirectory
+nsresult
+rv
+rv
+close
+nsassertion
+nssucceeded
+rv
+failed
+to
+close
+view
+nsimethodimp
+nsabview
+close
+muri
+mdirectory
+nsnull
+mabviewlistener
+nsnull
+mtree
+nsnull
+mtreeselection
+nsnull
+nsresult
+rv
+nsok
+rv
+removeprefobservers
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+absession
+removeaddressbooklistener
+nsensuresuccess
+rv
+rv
+print
+mcards
+count
+rv
+removecardat
+nsassertion
+nssucceeded
+rv
+remove
+card
+failed
+nsok
+nsresult
+nsabview
+removecardat
+print
+row
+nsresult
+rv
+abcard
+abcard
+abcard
+mcards
+elementat
+row
+nsifrelease
+abcard
+card
+mcards
+removeelementat
+row
+abcard
+primarycollationkey
+nsmemory
+free
+abcard
+primarycollationkey
+abcard
+secondarycollationkey
+nsmemory
+free
+abcard
+secondarycollationkey
+prfreeif
+abcard
+mabviewlistener
+msuppresscountchange
+rv
+mabviewlistener
+oncountchanged
+mcards
+count
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsabview
+geturi
+auri
+auri
+tonewcstring
+muri
+nsok
+nsresult
+nsabview
+setgeneratednameformatfromprefs
+nsresult
+rv
+nscomptr
+nsiprefservice
+prefs
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+rv
+prefs
+getbranch
+nsnull
+getteraddrefs
+prefbranch
+nsensuresuccess
+rv
+rv
+rv
+prefbranch
+getintpref
+prefmailaddrbooklastnamefirst
+mgeneratednameformat
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsabview
+addprefobservers
+nsresult
+rv
+nscomptr
+nsiprefservice
+prefs
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+rv
+prefs
+getbranch
+nsnull
+getteraddrefs
+prefbranch
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefbranchinternal
+pbi
+doqueryinterface
+prefbranch
+rv
+nsensuresuccess
+rv
+rv
+rv
+pbi
+addobserver
+prefmailaddrbooklastnamefirst
+prfalse
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsabview
+removeprefobservers
+nsresult
+rv
+nscomptr
+nsiprefservice
+prefs
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+rv
+prefs
+getbranch
+nsnull
+getteraddrefs
+prefbranch
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefbranchinternal
+pbi
+doqueryinterface
+prefbranch
+rv
+nsensuresuccess
+rv
+rv
+rv
+pbi
+removeobserver
+prefmailaddrbooklastnamefirst
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsabview
+init
+auri
+nsiabviewlistener
+abviewlistener
+prunichar
+colid
+prunichar
+sortdirection
+prunichar
+result
+nsresult
+rv
+nsensureargpointer
+result
+muri
+auri
+mabviewlistener
+abviewlistener
+rv
+addprefobservers
+nsensuresuccess
+rv
+rv
+rv
+setgeneratednameformatfromprefs
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfservice
+rdfservice
+dogetservice
+rdf
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+resource
+rv
+rdfservice
+getresource
+nsdependentcstring
+auri
+getteraddrefs
+resource
+nsensuresuccess
+rv
+rv
+mdirectory
+doqueryinterface
+resource
+rv
+nsensuresuccess
+rv
+rv
+rv
+enumeratecards
+nsensuresuccess
+rv
+rv
+nsnamedliteralstring
+generatednamecolumnid
+generatednamecolumnid
+nsautostring
+actualsortcolumn
+generatednamecolumnid
+equals
+colid
+mcards
+count
+nsiabcard
+card
+abcard
+mcards
+elementat
+card
+nsxpidlstring
+value
+rv
+getcardvalue
+card
+colid
+gettercopies
+value
+nsfailed
+rv
+actualsortcolumn
+generatednamecolumnid
+get
+actualsortcolumn
+colid
+actualsortcolumn
+colid
+rv
+sortby
+actualsortcolumn
+get
+sortdirection
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+absession
+addaddressbooklistener
+nsiablistener
+all
+nsensuresuccess
+rv
+rv
+mabviewlistener
+msuppresscountchange
+rv
+mabviewlistener
+oncountchanged
+mcards
+count
+nsensuresuccess
+rv
+rv
+result
+tonewunicode
+actualsortcolumn
+nsok
+nsimethodimp
+nsabview
+getdirectory
+nsiabdirectory
+adirectory
+nsensureargpointer
+adirectory
+nsifaddref
+adirectory
+mdirectory
+nsok
+nsresult
+nsabview
+enumeratecards
+nsresult
+rv
+nscomptr
+nsienumerator
+cardsenumerator
+nscomptr
+nsiabcard
+card
+mdirectory
+nserrorunexpected
+rv
+mdirectory
+getchildcards
+getteraddrefs
+cardsenumerator
+nssucceeded
+rv
+cardsenumerator
+nscomptr
+nsisupports
+item
+rv
+cardsenumerator
+first
+nssucceeded
+rv
+rv
+cardsenumerator
+next
+rv
+cardsenumerator
+currentitem
+getteraddrefs
+item
+nssucceeded
+rv
+nscomptr
+nsiabcard
+card
+doqueryinterface
+item
+abcard
+abcard
+abcard
+prcalloc
+abcard
+abcard
+nserroroutofmemory
+abcard
+card
+card
+nsifaddref
+abcard
+card
+rv
+mcards
+appendelement
+abcard
+nsassertion
+nssucceeded
+rv
+failed
+to
+append
+card
+nsok
+nsimethodimp
+nsabview
+getrowcount
+print
+arowcount
+arowcount
+mcards
+count
+nsok
+nsimethodimp
+nsabview
+getselection
+nsitreeselection
+aselection
+nsifaddref
+aselection
+mtreeselection
+nsok
+nsimethodimp
+nsabview
+setselection
+nsitreeselection
+aselection
+mtreeselection
+aselection
+nsok
+nsimethodimp
+nsabview
+getrowproperties
+print
+index
+nsisupportsarray
+properties
+nsok
+nsimethodimp
+nsabview
+getcellproperties
+print
+row
+prunichar
+colid
+nsisupportsarray
+properties
+nsensuretrue
+row
+nserrorunexpected
+mcards
+count
+row
+nsok
+colid
+prunichar
+nsok
+nsiabcard
+card
+abcard
+mcards
+elementat
+row
+card
+prbool
+ismaillist
+nsresult
+rv
+card
+getismaillist
+ismaillist
+nsensuresuccess
+rv
+rv
+ismaillist
+rv
+properties
+appendelement
+mmaillistatom
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsabview
+getcolumnproperties
+prunichar
+colid
+nsidomelement
+colelt
+nsisupportsarray
+properties
+nsok
+nsimethodimp
+nsabview
+iscontainer
+print
+index
+prbool
+retval
+retval
+prfalse
+nsok
+nsimethodimp
+nsabview
+iscontaineropen
+print
+index
+prbool
+retval
+nserrornotimplemented
+nsimethodimp
+nsabview
+iscontainerempty
+print
+index
+prbool
+retval
+nserrornotimplemented
+nsimethodimp
+nsabview
+isseparator
+print
+index
+prbool
+retval
+retval
+prfalse
+nsok
+nsimethodimp
+nsabview
+issorted
+prbool
+retval
+nserrornotimplemented
+nsimethodimp
+nsabview
+candropon
+print
+index
+prbool
+retval
+nserrornotimplemented
+nsimethodimp
+nsabview
+candropbeforeafter
+print
+index
+prbool
+before
+prbool
+retval
+nserrornotimplemented
+nsimethodimp
+nsabview
+drop
+print
+row
+print
+orientation
+nserrornotimplemented
+nsimethodimp
+nsabview
+getparentindex
+print
+rowindex
+print
+retval
+retval
+nsok
+nsimethodimp
+nsabview
+hasnextsibling
+print
+rowindex
+print
+afterindex
+prbool
+retval
+nserrornotimplemented
+nsimethodimp
+nsabview
+getlevel
+print
+index
+print
+retval
+retval
+nsok
+nsimethodimp
+nsabview
+getimagesrc
+print
+row
+prunichar
+colid
+nsastring
+retval
+nsok
+nsimethodimp
+nsabview
+getprogressmode
+print
+row
+prunichar
+colid
+print
+retval
+nsok
+nsimethodimp
+nsabview
+getcellvalue
+print
+row
+prunichar
+colid
+nsastring
+retval
+nsok
+nsresult
+nsabview
+getcardvalue
+nsiabcard
+card
+prunichar
+colid
+prunichar
+retval
+nsresult
+rv
+colid
+prunichar
+colid
+prunichar
+colid
+prunichar
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+rv
+nsensuresuccess
+rv
+rv
+colid
+prunichar
+rv
+absession
+generatenamefromcard
+card
+mgeneratednameformat
+retval
+rv
+absession
+generatephoneticnamefromcard
+card
+prtrue
+retval
+nsensuresuccess
+rv
+rv
+rv
+card
+getcardvalue
+nslossyconvertucstoascii
+colid
+get
+retval
+rv
+nsresult
+nsabview
+refreshtree
+nsresult
+rv
+msortcolumn
+equals
+nsliteralstring
+generatednamecolumnid
+msortcolumn
+equals
+nsliteralstring
+kpriemailcolumn
+msortcolumn
+equals
+nsliteralstring
+kphoneticnamecolumn
+rv
+sortby
+msortcolumn
+get
+msortdirection
+get
+rv
+invalidatetree
+allrows
+rv
+nsimethodimp
+nsabview
+getcelltext
+print
+row
+prunichar
+colid
+nsastring
+retval
+nsensuretrue
+row
+nserrorunexpected
+nsiabcard
+card
+abcard
+mcards
+elementat
+row
+card
+nsxpidlstring
+celltext
+nsresult
+rv
+getcardvalue
+card
+colid
+gettercopies
+celltext
+retval
+assign
+celltext
+rv
+nsimethodimp
+nsabview
+settree
+nsitreeboxobject
+tree
+mtree
+tree
+nsok
+nsimethodimp
+nsabview
+toggleopenstate
+print
+index
+nserrornotimplemented
+nsimethodimp
+nsabview
+cycleheader
+prunichar
+colid
+nsidomelement
+elt
+nsok
+nsresult
+nsabview
+invalidatetree
+print
+row
+mtree
+nsok
+row
+allrows
+mtree
+invalidate
+mtree
+invalidaterow
+row
+nsimethodimp
+nsabview
+selectionchanged
+mabviewlistener
+msuppressselectionchange
+nsresult
+rv
+mabviewlistener
+onselectionchanged
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsabview
+cyclecell
+print
+row
+prunichar
+colid
+nserrornotimplemented
+nsimethodimp
+nsabview
+iseditable
+print
+row
+prunichar
+colid
+prbool
+retval
+nserrornotimplemented
+nsimethodimp
+nsabview
+setcelltext
+print
+row
+prunichar
+colid
+prunichar
+value
+nserrornotimplemented
+nsimethodimp
+nsabview
+performaction
+prunichar
+action
+nserrornotimplemented
+nsimethodimp
+nsabview
+performactiononrow
+prunichar
+action
+print
+row
+nserrornotimplemented
+nsimethodimp
+nsabview
+performactiononcell
+prunichar
+action
+print
+row
+prunichar
+colid
+nserrornotimplemented
+nsimethodimp
+nsabview
+getcardfromrow
+print
+row
+nsiabcard
+acard
+acard
+nsnull
+mcards
+count
+row
+nsok
+nsensuretrue
+row
+nserrorunexpected
+abcard
+abcard
+mcards
+elementat
+row
+nsok
+nsifaddref
+acard
+card
+nsok
+define
+descendingsortfactor
+define
+ascendingsortfactor
+sortclosure
+prunichar
+colid
+print
+factor
+nsabview
+abview
+sortclosure
+prcallback
+inplacesortcallback
+data
+data
+privatedata
+abcard
+card
+abcard
+data
+abcard
+card
+abcard
+data
+sortclosure
+closure
+sortclosure
+privatedata
+print
+sortvalue
+closure
+colid
+prunichar
+closure
+colid
+prunichar
+sortvalue
+closure
+abview
+comparecollationkeys
+card
+secondarycollationkey
+card
+secondarycollationkeylen
+card
+secondarycollationkey
+card
+secondarycollationkeylen
+sortvalue
+sortvalue
+closure
+factor
+closure
+abview
+comparecollationkeys
+card
+primarycollationkey
+card
+primarycollationkeylen
+card
+primarycollationkey
+card
+primarycollationkeylen
+closure
+factor
+sortvalue
+closure
+abview
+comparecollationkeys
+card
+primarycollationkey
+card
+primarycollationkeylen
+card
+primarycollationkey
+card
+primarycollationkeylen
+sortvalue
+sortvalue
+closure
+factor
+closure
+abview
+comparecollationkeys
+card
+secondarycollationkey
+card
+secondarycollationkeylen
+card
+secondarycollationkey
+card
+secondarycollationkeylen
+closure
+factor
+setsortclosure
+prunichar
+sortcolumn
+prunichar
+sortdirection
+nsabview
+abview
+sortclosure
+closure
+closure
+colid
+sortcolumn
+sortdirection
+nscrt
+strcmp
+sortdirection
+nsliteralstring
+descending
+get
+closure
+factor
+descendingsortfactor
+closure
+factor
+ascendingsortfactor
+closure
+abview
+abview
+nsimethodimp
+nsabview
+sortby
+prunichar
+colid
+prunichar
+sortdir
+nsresult
+rv
+print
+count
+mcards
+count
+nsautostring
+sortcolumn
+colid
+sortcolumn
+nsliteralstring
+generatednamecolumnid
+get
+sortcolumn
+colid
+print
+nscrt
+strcmp
+msortcolumn
+get
+sortcolumn
+get
+nscrt
+strcmp
+msortdirection
+get
+sortdir
+print
+halfpoint
+count
+halfpoint
+ptr
+mcards
+elementat
+ptr
+mcards
+elementat
+count
+mcards
+replaceelementat
+ptr
+mcards
+replaceelementat
+ptr
+count
+msortdirection
+sortdir
+count
+abcard
+abcard
+abcard
+mcards
+elementat
+rv
+generatecollationkeysforcard
+sortcolumn
+get
+abcard
+nsensuresuccess
+rv
+rv
+nsautostring
+sortdirection
+sortdir
+sortdirection
+nsliteralstring
+ascending
+get
+sortdirection
+sortdir
+sortclosure
+closure
+setsortclosure
+sortcolumn
+get
+sortdirection
+get
+closure
+nscomptr
+nsisupportsarray
+selectedcards
+rv
+getselectedcards
+getteraddrefs
+selectedcards
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabcard
+indexcard
+mtreeselection
+print
+currentindex
+rv
+mtreeselection
+getcurrentindex
+currentindex
+nsensuresuccess
+rv
+rv
+currentindex
+rv
+getcardfromrow
+currentindex
+getteraddrefs
+indexcard
+nsensuresuccess
+rv
+rv
+mcards
+sort
+inplacesortcallback
+closure
+rv
+reselectcards
+selectedcards
+indexcard
+nsensuresuccess
+rv
+rv
+msortcolumn
+sortcolumn
+get
+msortdirection
+sortdirection
+get
+rv
+invalidatetree
+allrows
+nsensuresuccess
+rv
+rv
+rv
+print
+nsabview
+comparecollationkeys
+pruint
+key
+pruint
+len
+pruint
+key
+pruint
+len
+nsassertion
+mcollationkeygenerator
+no
+key
+generator
+mcollationkeygenerator
+print
+result
+nsresult
+rv
+mcollationkeygenerator
+comparerawsortkey
+key
+len
+key
+len
+result
+nsassertion
+nssucceeded
+rv
+key
+compare
+failed
+nsfailed
+rv
+result
+result
+nsresult
+nsabview
+generatecollationkeysforcard
+prunichar
+colid
+abcard
+abcard
+nsresult
+rv
+nsxpidlstring
+value
+rv
+getcardvalue
+abcard
+card
+colid
+gettercopies
+value
+nsensuresuccess
+rv
+rv
+abcard
+primarycollationkey
+nsmemory
+free
+abcard
+primarycollationkey
+rv
+createcollationkey
+value
+abcard
+primarycollationkey
+abcard
+primarycollationkeylen
+nsensuresuccess
+rv
+rv
+rv
+getcardvalue
+abcard
+card
+nsliteralstring
+kpriemailcolumn
+get
+gettercopies
+value
+nsensuresuccess
+rv
+rv
+abcard
+secondarycollationkey
+nsmemory
+free
+abcard
+secondarycollationkey
+rv
+createcollationkey
+value
+abcard
+secondarycollationkey
+abcard
+secondarycollationkeylen
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsabview
+createcollationkey
+prunichar
+asource
+pruint
+akey
+pruint
+akeylen
+nsensureargpointer
+akey
+nsensureargpointer
+akeylen
+asource
+akey
+nsnull
+akeylen
+nsok
+nsresult
+rv
+mcollationkeygenerator
+nscomptr
+nsilocaleservice
+localesvc
+dogetservice
+nslocaleservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsilocale
+locale
+rv
+localesvc
+getapplicationlocale
+getteraddrefs
+locale
+nsensuresuccess
+rv
+rv
+nscomptr
+nsicollationfactory
+factory
+docreateinstance
+kcollationfactorycid
+rv
+nsensuresuccess
+rv
+rv
+rv
+factory
+createcollation
+locale
+getteraddrefs
+mcollationkeygenerator
+nsensuresuccess
+rv
+rv
+nsautostring
+sourcestring
+asource
+rv
+mcollationkeygenerator
+getsortkeylen
+kcollationcaseinsensitive
+sourcestring
+akeylen
+nsensuresuccess
+rv
+rv
+akey
+pruint
+nsmemory
+alloc
+akeylen
+akey
+nserroroutofmemory
+rv
+mcollationkeygenerator
+createrawsortkey
+kcollationcaseinsensitive
+sourcestring
+akey
+akeylen
+nsassertion
+nssucceeded
+rv
+failed
+to
+generate
+raw
+sort
+key
+see
+bug
+nsok
+nsimethodimp
+nsabview
+onitemadded
+nsisupports
+parentdir
+nsisupports
+item
+nsresult
+rv
+nscomptr
+nsiabdirectory
+directory
+doqueryinterface
+parentdir
+rv
+nsensuresuccess
+rv
+rv
+directory
+get
+mdirectory
+get
+nscomptr
+nsiabcard
+addedcard
+doqueryinterface
+item
+addedcard
+abcard
+abcard
+abcard
+prcalloc
+abcard
+abcard
+nserroroutofmemory
+abcard
+card
+addedcard
+nsifaddref
+abcard
+card
+rv
+generatecollationkeysforcard
+msortcolumn
+get
+abcard
+nsensuresuccess
+rv
+rv
+print
+index
+rv
+addcard
+abcard
+prfalse
+index
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsabview
+observe
+nsisupports
+asubject
+atopic
+prunichar
+somedata
+nsresult
+rv
+nscrt
+strcmp
+atopic
+nsprefbranchprefchangetopicid
+nsdependentstring
+prefname
+somedata
+prefname
+equals
+nsliteralstring
+prefmailaddrbooklastnamefirst
+rv
+setgeneratednameformatfromprefs
+nsensuresuccess
+rv
+rv
+rv
+refreshtree
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsabview
+addcard
+abcard
+abcard
+prbool
+selectcardafteradding
+print
+index
+nsresult
+rv
+nsok
+nsensureargpointer
+abcard
+index
+findindexforinsert
+abcard
+rv
+mcards
+insertelementat
+abcard
+index
+nsensuresuccess
+rv
+rv
+mtree
+rv
+mtree
+rowcountchanged
+index
+selectcardafteradding
+mtreeselection
+mtreeselection
+setcurrentindex
+index
+mtreeselection
+rangedselect
+index
+index
+prfalse
+mabviewlistener
+msuppresscountchange
+rv
+mabviewlistener
+oncountchanged
+mcards
+count
+nsensuresuccess
+rv
+rv
+rv
+print
+nsabview
+findindexforinsert
+abcard
+abcard
+print
+count
+mcards
+count
+print
+item
+abcard
+sortclosure
+closure
+setsortclosure
+msortcolumn
+get
+msortdirection
+get
+closure
+count
+current
+mcards
+elementat
+print
+value
+inplacesortcallback
+item
+current
+closure
+value
+nsimethodimp
+nsabview
+onitemremoved
+nsisupports
+parentdir
+nsisupports
+item
+nsresult
+rv
+nscomptr
+nsiabdirectory
+directory
+doqueryinterface
+parentdir
+rv
+nsensuresuccess
+rv
+rv
+directory
+get
+mdirectory
+get
+rv
+removecardandselectnextcard
+item
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsabview
+removecardandselectnextcard
+nsisupports
+item
+nsresult
+rv
+nsok
+nscomptr
+nsiabcard
+card
+doqueryinterface
+item
+card
+print
+index
+findindexforcard
+card
+index
+cardnotfound
+prbool
+selectnextcard
+prfalse
+mtreeselection
+print
+selectedindex
+mtreeselection
+getcurrentindex
+selectedindex
+index
+selectedindex
+selectnextcard
+prtrue
+rv
+removecardat
+index
+nsensuresuccess
+rv
+rv
+mtree
+rv
+mtree
+rowcountchanged
+index
+nsensuresuccess
+rv
+rv
+selectnextcard
+print
+count
+mcards
+count
+count
+mtreeselection
+index
+count
+index
+count
+mtreeselection
+setcurrentindex
+index
+mtreeselection
+rangedselect
+index
+index
+prfalse
+rv
+print
+nsabview
+findindexforcard
+nsiabcard
+card
+print
+count
+mcards
+count
+print
+count
+abcard
+abcard
+abcard
+mcards
+elementat
+prbool
+equals
+nsresult
+rv
+card
+equals
+abcard
+card
+equals
+nssucceeded
+rv
+equals
+cardnotfound
+nsimethodimp
+nsabview
+onitempropertychanged
+nsisupports
+item
+property
+prunichar
+oldvalue
+prunichar
+newvalue
+nsresult
+rv
+nscomptr
+nsiabcard
+card
+doqueryinterface
+item
+card
+nsok
+print
+index
+findindexforcard
+card
+index
+nsok
+abcard
+oldcard
+abcard
+mcards
+elementat
+index
+abcard
+newcard
+abcard
+prcalloc
+abcard
+newcard
+nserroroutofmemory
+newcard
+card
+card
+nsifaddref
+newcard
+card
+rv
+generatecollationkeysforcard
+msortcolumn
+get
+newcard
+nsensuresuccess
+rv
+rv
+comparecollationkeys
+newcard
+primarycollationkey
+newcard
+primarycollationkeylen
+oldcard
+primarycollationkey
+oldcard
+primarycollationkeylen
+comparecollationkeys
+newcard
+secondarycollationkey
+newcard
+secondarycollationkeylen
+oldcard
+secondarycollationkey
+oldcard
+secondarycollationkeylen
+nsifrelease
+newcard
+card
+newcard
+primarycollationkey
+nsmemory
+free
+newcard
+primarycollationkey
+newcard
+secondarycollationkey
+nsmemory
+free
+newcard
+secondarycollationkey
+prfreeif
+newcard
+rv
+invalidatetree
+index
+nsensuresuccess
+rv
+rv
+prbool
+cardwasselected
+prfalse
+mtreeselection
+rv
+mtreeselection
+isselected
+index
+cardwasselected
+nsensuresuccess
+rv
+rv
+msuppressselectionchange
+prtrue
+msuppresscountchange
+prtrue
+rv
+removecardat
+index
+nsassertion
+nssucceeded
+rv
+remove
+card
+failed
+rv
+addcard
+newcard
+cardwasselected
+index
+nsassertion
+nssucceeded
+rv
+add
+card
+failed
+msuppressselectionchange
+prfalse
+msuppresscountchange
+prfalse
+cardwasselected
+mtree
+mtree
+ensurerowisvisible
+index
+nsok
+nsimethodimp
+nsabview
+selectall
+mtreeselection
+mtree
+mtreeselection
+selectall
+mtree
+invalidate
+nsok
+nsimethodimp
+nsabview
+getsortdirection
+nsastring
+adirection
+adirection
+msortdirection
+nsok
+nsimethodimp
+nsabview
+getsortcolumn
+nsastring
+acolumn
+acolumn
+msortcolumn
+nsok
+nsresult
+nsabview
+reselectcards
+nsisupportsarray
+cards
+nsiabcard
+indexcard
+pruint
+count
+pruint
+mtreeselection
+cards
+nsok
+nsresult
+rv
+mtreeselection
+clearselection
+nsensuresuccess
+rv
+rv
+rv
+cards
+count
+count
+nsensuresuccess
+rv
+rv
+count
+nscomptr
+nsiabcard
+card
+doqueryelementat
+cards
+card
+print
+index
+findindexforcard
+card
+index
+cardnotfound
+mtreeselection
+rangedselect
+index
+index
+prtrue
+indexcard
+print
+currentindex
+findindexforcard
+indexcard
+rv
+mtreeselection
+setcurrentindex
+currentindex
+nsensuresuccess
+rv
+rv
+mtree
+rv
+mtree
+ensurerowisvisible
+currentindex
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsabview
+deleteselectedcards
+nscomptr
+nsisupportsarray
+cardstodelete
+nsresult
+rv
+getselectedcards
+getteraddrefs
+cardstodelete
+nsensuresuccess
+rv
+rv
+nsensuretrue
+mdirectory
+nserrorunexpected
+rv
+mdirectory
+deletecards
+cardstodelete
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsabview
+getselectedcards
+nsisupportsarray
+selectedcards
+selectedcards
+nsnull
+mtreeselection
+nsok
+print
+selectioncount
+nsresult
+rv
+mtreeselection
+getrangecount
+selectioncount
+nsensuresuccess
+rv
+rv
+selectioncount
+nsok
+rv
+nsnewisupportsarray
+selectedcards
+nsensuresuccess
+rv
+rv
+print
+selectioncount
+print
+startrange
+print
+endrange
+rv
+mtreeselection
+getrangeat
+startrange
+endrange
+nsensuresuccess
+rv
+nsok
+print
+totalcards
+mcards
+count
+startrange
+startrange
+totalcards
+print
+rangeindex
+startrange
+rangeindex
+endrange
+rangeindex
+totalcards
+rangeindex
+nscomptr
+nsiabcard
+abcard
+rv
+getcardfromrow
+rangeindex
+getteraddrefs
+abcard
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupports
+supports
+doqueryinterface
+abcard
+rv
+nsensuresuccess
+rv
+rv
+rv
+selectedcards
+appendelement
+supports
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsabview
+swapfirstnamelastname
+mtreeselection
+nsok
+print
+selectioncount
+nsresult
+rv
+mtreeselection
+getrangecount
+selectioncount
+nsensuresuccess
+rv
+rv
+selectioncount
+nsok
+prbool
+displaynameautogeneration
+prbool
+displaynamelastnamefirst
+prfalse
+nscomptr
+nsiprefservice
+prefs
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+rv
+prefs
+getbranch
+nsnull
+getteraddrefs
+prefbranch
+nsensuresuccess
+rv
+rv
+rv
+prefbranch
+getboolpref
+prefmailaddrbookdisplaynameautogeneration
+displaynameautogeneration
+nsensuresuccess
+rv
+rv
+nscomptr
+nsistringbundle
+bundle
+displaynameautogeneration
+nscomptr
+nsipreflocalizedstring
+pls
+rv
+prefbranch
+getcomplexvalue
+prefmailaddrbookdisplaynamelastnamefirst
+nsgetiid
+nsipreflocalizedstring
+getteraddrefs
+pls
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+str
+pls
+tostring
+gettercopies
+str
+displaynamelastnamefirst
+str
+equals
+nsliteralstring
+nscomptr
+nsistringbundleservice
+bundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+bundleservice
+createbundle
+messenger
+locale
+addressbook
+addressbook
+properties
+getteraddrefs
+bundle
+nsensuresuccess
+rv
+rv
+print
+selectioncount
+print
+startrange
+print
+endrange
+rv
+mtreeselection
+getrangeat
+startrange
+endrange
+nsensuresuccess
+rv
+nsok
+print
+totalcards
+mcards
+count
+startrange
+startrange
+totalcards
+print
+rangeindex
+startrange
+rangeindex
+endrange
+rangeindex
+totalcards
+rangeindex
+nscomptr
+nsiabcard
+abcard
+rv
+getcardfromrow
+rangeindex
+getteraddrefs
+abcard
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+fn
+ln
+abcard
+getfirstname
+gettercopies
+fn
+abcard
+getlastname
+gettercopies
+ln
+fn
+isempty
+ln
+isempty
+abcard
+setfirstname
+ln
+abcard
+setlastname
+fn
+displaynameautogeneration
+fn
+isempty
+ln
+isempty
+nsxpidlstring
+dnlnfn
+nsxpidlstring
+dnfnln
+prunichar
+namestring
+prunichar
+formatstring
+formatstring
+displaynamelastnamefirst
+nsliteralstring
+lastfirstformat
+get
+nsliteralstring
+firstlastformat
+get
+namestring
+ln
+get
+namestring
+fn
+get
+rv
+bundle
+formatstringfromname
+formatstring
+namestring
+gettercopies
+dnlnfn
+nsensuresuccess
+rv
+rv
+namestring
+fn
+get
+namestring
+ln
+get
+rv
+bundle
+formatstringfromname
+formatstring
+namestring
+gettercopies
+dnfnln
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+dn
+rv
+abcard
+getdisplayname
+gettercopies
+dn
+nsensuresuccess
+rv
+rv
+displaynamelastnamefirst
+dn
+equals
+dnlnfn
+abcard
+setdisplayname
+dnfnln
+dn
+equals
+dnfnln
+abcard
+setdisplayname
+dnlnfn
+rv
+abcard
+getphoneticfirstname
+gettercopies
+fn
+nsensuresuccess
+rv
+rv
+rv
+abcard
+getphoneticlastname
+gettercopies
+ln
+nsensuresuccess
+rv
+rv
+fn
+isempty
+ln
+isempty
+abcard
+setphoneticfirstname
+ln
+abcard
+setphoneticlastname
+fn
+rv
+refreshtree
+rv
+nsimethodimp
+nsabview
+getselectedaddresses
+nsisupportsarray
+retval
+nsensureargpointer
+retval
+nscomptr
+nsisupportsarray
+selectedcards
+nsresult
+rv
+getselectedcards
+getteraddrefs
+selectedcards
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupportsarray
+addresses
+docreateinstance
+nssupportsarraycontractid
+pruint
+count
+selectedcards
+count
+count
+pruint
+count
+nscomptr
+nsisupports
+supports
+selectedcards
+getelementat
+getteraddrefs
+supports
+nscomptr
+nsiabcard
+card
+doqueryinterface
+supports
+rv
+nsensuresuccess
+rv
+rv
+prbool
+ismaillist
+card
+getismaillist
+ismaillist
+nsxpidlstring
+primaryemail
+ismaillist
+nscomptr
+nsirdfservice
+rdfservice
+dogetservice
+nsrdfcontractid
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+maillisturi
+card
+getmaillisturi
+gettercopies
+maillisturi
+nscomptr
+nsirdfresource
+resource
+rv
+rdfservice
+getresource
+maillisturi
+getteraddrefs
+resource
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabdirectory
+maillist
+doqueryinterface
+resource
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupportsarray
+maillistaddresses
+rv
+maillist
+getaddresslists
+getteraddrefs
+maillistaddresses
+nsensuresuccess
+rv
+rv
+pruint
+maillistcount
+maillistaddresses
+count
+maillistcount
+pruint
+maillistcount
+nscomptr
+nsiabcard
+maillistcard
+doqueryelementat
+maillistaddresses
+rv
+nsensuresuccess
+rv
+rv
+rv
+maillistcard
+getprimaryemail
+gettercopies
+primaryemail
+nsensuresuccess
+rv
+rv
+primaryemail
+isempty
+nscomptr
+nsisupportsstring
+supportsemail
+docreateinstance
+nssupportsstringcontractid
+supportsemail
+setdata
+primaryemail
+addresses
+appendelement
+supportsemail
+rv
+card
+getprimaryemail
+gettercopies
+primaryemail
+nsensuresuccess
+rv
+rv
+primaryemail
+isempty
+nscomptr
+nsisupportsstring
+supportsemail
+docreateinstance
+nssupportsstringcontractid
+supportsemail
+setdata
+primaryemail
+addresses
+appendelement
+supportsemail
+nsifaddref
+retval
+addresses
+nsok
\ No newline at end of file
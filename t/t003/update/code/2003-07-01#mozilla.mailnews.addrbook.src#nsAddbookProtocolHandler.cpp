@@ -0,0 +1,497 @@
+msgcore
+nsxpidlstring
+nsreadableutils
+nsipref
+nsiioservice
+nsistreamlistener
+nsaddbookprotocolhandler
+nsaddbookurl
+nsaddbookprotocolhandler
+nsifilespec
+nscomptr
+nsabbasecid
+nsnetutil
+nsistringstream
+nsiaddrbooksession
+nsiabmdbcard
+nsiabdirectory
+nsirdfresource
+nsirdfservice
+nsrdfcid
+prmem
+nsiprefservice
+nsiprefbranch
+nsistringbundle
+nsiservicemanager
+nsaddbookprotocolhandler
+nsaddbookprotocolhandler
+maddbookoperation
+nsiaddbookurloperation
+invalidurl
+nsaddbookprotocolhandler
+nsaddbookprotocolhandler
+nsimplisupports
+nsaddbookprotocolhandler
+nsiprotocolhandler
+nsimethodimp
+nsaddbookprotocolhandler
+getscheme
+nsacstring
+ascheme
+ascheme
+addbook
+nsok
+nsimethodimp
+nsaddbookprotocolhandler
+getdefaultport
+print
+adefaultport
+nsok
+nsimethodimp
+nsaddbookprotocolhandler
+getprotocolflags
+pruint
+auritype
+auritype
+uristd
+nsok
+nsimethodimp
+nsaddbookprotocolhandler
+newuri
+nsacstring
+aspec
+aorigincharset
+nsiuri
+abaseuri
+nsiuri
+retval
+nsresult
+rv
+nsok
+nscomptr
+nsiaddbookurl
+addbookurl
+docreateinstance
+nsaddbookurlcontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+addbookurl
+setspec
+aspec
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiuri
+uri
+doqueryinterface
+addbookurl
+rv
+nsensuresuccess
+rv
+rv
+nsaddref
+retval
+uri
+nsok
+nsimethodimp
+nsaddbookprotocolhandler
+allowport
+print
+port
+scheme
+prbool
+retval
+retval
+prfalse
+nsok
+nsresult
+nsaddbookprotocolhandler
+generatexmloutputchannel
+nsstring
+aoutput
+nsiaddbookurl
+addbookurl
+nsiuri
+auri
+nsichannel
+retval
+nsresult
+rv
+nsok
+nsichannel
+channel
+nscomptr
+nsiinputstream
+instr
+nsconvertucstoutf
+utfstring
+aoutput
+get
+rv
+nsnewcstringinputstream
+getteraddrefs
+instr
+utfstring
+nsensuresuccess
+rv
+rv
+rv
+nsnewinputstreamchannel
+channel
+auri
+instr
+nsliteralcstring
+text
+xml
+nsensuresuccess
+rv
+rv
+retval
+channel
+rv
+nsimethodimp
+nsaddbookprotocolhandler
+newchannel
+nsiuri
+auri
+nsichannel
+retval
+nsresult
+rv
+nscomptr
+nsiaddbookurl
+addbookurl
+doqueryinterface
+auri
+rv
+nsensuresuccess
+rv
+rv
+rv
+addbookurl
+getaddbookoperation
+maddbookoperation
+nsensuresuccess
+rv
+rv
+maddbookoperation
+nsiaddbookurloperation
+invalidurl
+nsautostring
+errorstring
+errorstring
+append
+nsliteralstring
+unsupported
+format
+operation
+requested
+get
+nscautostring
+spec
+rv
+auri
+getspec
+spec
+nsensuresuccess
+rv
+rv
+errorstring
+append
+nsconvertutftoucs
+spec
+rv
+generatexmloutputchannel
+errorstring
+addbookurl
+auri
+retval
+nsensuresuccess
+rv
+rv
+nsok
+nsstring
+output
+rv
+generateprintoutput
+addbookurl
+output
+nsfailed
+rv
+output
+assign
+nsliteralstring
+failed
+to
+print
+url
+get
+nscautostring
+spec
+rv
+auri
+getspec
+spec
+nsensuresuccess
+rv
+rv
+output
+append
+nsconvertutftoucs
+spec
+rv
+generatexmloutputchannel
+output
+addbookurl
+auri
+retval
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsaddbookprotocolhandler
+generateprintoutput
+nsiaddbookurl
+addbookurl
+nsstring
+aoutput
+nsensureargpointer
+addbookurl
+nscautostring
+uri
+nsresult
+rv
+addbookurl
+getpath
+uri
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfservice
+rdfservice
+dogetservice
+rdf
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+uri
+uri
+nserrorunexpected
+uri
+cut
+print
+pos
+uri
+find
+action
+print
+pos
+knotfound
+nserrorunexpected
+uri
+truncate
+pos
+pos
+uri
+find
+pos
+knotfound
+nserrorunexpected
+uri
+insert
+pos
+uri
+insert
+pos
+nscomptr
+nsirdfresource
+resource
+rv
+rdfservice
+getresource
+uri
+getteraddrefs
+resource
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabdirectory
+directory
+doqueryinterface
+resource
+rv
+nsensuresuccess
+rv
+rv
+rv
+builddirectoryxml
+directory
+aoutput
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsaddbookprotocolhandler
+builddirectoryxml
+nsiabdirectory
+adirectory
+nsstring
+aoutput
+nsensureargpointer
+adirectory
+nsresult
+rv
+nscomptr
+nsienumerator
+cardsenumerator
+nscomptr
+nsiabcard
+card
+aoutput
+append
+nsliteralstring
+xml
+version
+get
+aoutput
+append
+nsliteralstring
+xml
+stylesheet
+type
+text
+css
+href
+messenger
+content
+addressbook
+print
+css
+get
+aoutput
+append
+nsliteralstring
+directory
+get
+nscomptr
+nsistringbundle
+bundle
+nscomptr
+nsistringbundleservice
+stringbundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nssucceeded
+rv
+rv
+stringbundleservice
+createbundle
+messenger
+locale
+addressbook
+addressbook
+properties
+getteraddrefs
+bundle
+nssucceeded
+rv
+nsxpidlstring
+addrbook
+rv
+bundle
+getstringfromname
+nsliteralstring
+addressbook
+get
+gettercopies
+addrbook
+nssucceeded
+rv
+aoutput
+append
+nsliteralstring
+title
+xmlns
+xhtml
+get
+aoutput
+append
+addrbook
+aoutput
+append
+nsliteralstring
+title
+get
+rv
+adirectory
+getchildcards
+getteraddrefs
+cardsenumerator
+nssucceeded
+rv
+cardsenumerator
+nscomptr
+nsisupports
+item
+rv
+cardsenumerator
+first
+nssucceeded
+rv
+rv
+cardsenumerator
+next
+rv
+cardsenumerator
+currentitem
+getteraddrefs
+item
+nssucceeded
+rv
+nscomptr
+nsiabcard
+card
+doqueryinterface
+item
+nsxpidlstring
+xmlsubstr
+rv
+card
+converttoxmlprintdata
+gettercopies
+xmlsubstr
+nsensuresuccess
+rv
+rv
+aoutput
+append
+nsliteralstring
+separator
+get
+aoutput
+append
+xmlsubstr
+get
+aoutput
+append
+nsliteralstring
+separator
+get
+aoutput
+append
+nsliteralstring
+directory
+get
+nsok
\ No newline at end of file
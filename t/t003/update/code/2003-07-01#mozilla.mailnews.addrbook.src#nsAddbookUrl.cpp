@@ -0,0 +1,272 @@
+nsiuri
+nsnetcid
+nsaddbookurl
+nsstring
+nsxpidlstring
+nsabbasecid
+nsescape
+nsaddbookurl
+nsaddbookurl
+mbaseurl
+docreateinstance
+nssimpleuricontractid
+moperationtype
+nsiaddbookurloperation
+invalidurl
+nsaddbookurl
+nsaddbookurl
+nsimplisupports
+nsaddbookurl
+nsiaddbookurl
+nsiuri
+nsimethodimp
+nsaddbookurl
+setspec
+nsacstring
+aspec
+mbaseurl
+setspec
+aspec
+parseurl
+nsresult
+nsaddbookurl
+parseurl
+nsresult
+rv
+nscautostring
+pathstr
+rv
+mbaseurl
+getpath
+pathstr
+nsensuresuccess
+rv
+rv
+strstr
+pathstr
+get
+action
+print
+moperationtype
+nsiaddbookurloperation
+printaddressbook
+moperationtype
+nsiaddbookurloperation
+invalidurl
+nsok
+nsimethodimp
+nsaddbookurl
+getspec
+nsacstring
+aspec
+mbaseurl
+getspec
+aspec
+nsimethodimp
+nsaddbookurl
+getprepath
+nsacstring
+aprepath
+mbaseurl
+getprepath
+aprepath
+nsimethodimp
+nsaddbookurl
+getscheme
+nsacstring
+ascheme
+mbaseurl
+getscheme
+ascheme
+nsimethodimp
+nsaddbookurl
+setscheme
+nsacstring
+ascheme
+mbaseurl
+setscheme
+ascheme
+nsimethodimp
+nsaddbookurl
+getuserpass
+nsacstring
+auserpass
+mbaseurl
+getuserpass
+auserpass
+nsimethodimp
+nsaddbookurl
+setuserpass
+nsacstring
+auserpass
+mbaseurl
+setuserpass
+auserpass
+nsimethodimp
+nsaddbookurl
+getusername
+nsacstring
+ausername
+mbaseurl
+getusername
+ausername
+nsimethodimp
+nsaddbookurl
+setusername
+nsacstring
+ausername
+mbaseurl
+setusername
+ausername
+nsimethodimp
+nsaddbookurl
+getpassword
+nsacstring
+apassword
+mbaseurl
+getpassword
+apassword
+nsimethodimp
+nsaddbookurl
+setpassword
+nsacstring
+apassword
+mbaseurl
+setpassword
+apassword
+nsimethodimp
+nsaddbookurl
+gethostport
+nsacstring
+ahostport
+mbaseurl
+gethostport
+ahostport
+nsimethodimp
+nsaddbookurl
+sethostport
+nsacstring
+ahostport
+mbaseurl
+sethostport
+ahostport
+nsimethodimp
+nsaddbookurl
+gethost
+nsacstring
+ahost
+mbaseurl
+gethost
+ahost
+nsimethodimp
+nsaddbookurl
+sethost
+nsacstring
+ahost
+mbaseurl
+sethost
+ahost
+nsimethodimp
+nsaddbookurl
+getport
+print
+aport
+mbaseurl
+getport
+aport
+nsimethodimp
+nsaddbookurl
+setport
+print
+aport
+mbaseurl
+setport
+aport
+nsimethodimp
+nsaddbookurl
+getpath
+nsacstring
+apath
+mbaseurl
+getpath
+apath
+nsimethodimp
+nsaddbookurl
+setpath
+nsacstring
+apath
+mbaseurl
+setpath
+apath
+nsimethodimp
+nsaddbookurl
+getasciihost
+nsacstring
+ahosta
+mbaseurl
+getasciihost
+ahosta
+nsimethodimp
+nsaddbookurl
+getasciispec
+nsacstring
+aspeca
+mbaseurl
+getasciispec
+aspeca
+nsimethodimp
+nsaddbookurl
+getorigincharset
+nsacstring
+aorigincharset
+mbaseurl
+getorigincharset
+aorigincharset
+nsimethodimp
+nsaddbookurl
+schemeis
+ascheme
+prbool
+retval
+mbaseurl
+schemeis
+ascheme
+retval
+nsimethodimp
+nsaddbookurl
+equals
+nsiuri
+other
+prbool
+retval
+mbaseurl
+equals
+other
+retval
+nsimethodimp
+nsaddbookurl
+clone
+nsiuri
+retval
+mbaseurl
+clone
+retval
+nsimethodimp
+nsaddbookurl
+resolve
+nsacstring
+relativepath
+nsacstring
+result
+mbaseurl
+resolve
+relativepath
+result
+nsimethodimp
+nsaddbookurl
+getaddbookoperation
+print
+retval
+retval
+moperationtype
+nsok
\ No newline at end of file
@@ -0,0 +1,482 @@
+nscomptr
+nsaddrbooksession
+nsiaddrbooksession
+nsifilespec
+nsilocalfile
+nsidirectoryservice
+nsappdirectoryservicedefs
+nsxpidlstring
+nsimplthreadsafeisupports
+nsaddrbooksession
+nsiaddrbooksession
+nsaddrbooksession
+nsaddrbooksession
+nsaddrbooksession
+nsaddrbooksession
+nsimethodimp
+nsaddrbooksession
+addaddressbooklistener
+nsiablistener
+listener
+pruint
+notifyflags
+mlisteners
+nsnewisupportsarray
+getteraddrefs
+mlisteners
+nsensuretrue
+mlisteners
+nserrornullpointer
+mlisteners
+indexof
+listener
+nsok
+mlisteners
+appendelement
+listener
+mlistenernotifyflags
+add
+notifyflags
+nsok
+nsimethodimp
+nsaddrbooksession
+removeaddressbooklistener
+nsiablistener
+listener
+nsensuretrue
+mlisteners
+nserrornullpointer
+print
+index
+nsresult
+rv
+mlisteners
+getindexof
+listener
+index
+nsensuresuccess
+rv
+rv
+nsassertion
+index
+removing
+non
+existent
+listener
+index
+mlistenernotifyflags
+removeat
+index
+mlisteners
+removeelement
+listener
+nsok
+nsimethodimp
+nsaddrbooksession
+notifyitempropertychanged
+nsisupports
+item
+property
+prunichar
+oldvalue
+prunichar
+newvalue
+nsensuretrue
+mlisteners
+nserrornullpointer
+pruint
+count
+pruint
+nsresult
+rv
+mlisteners
+count
+count
+nsensuresuccess
+rv
+rv
+count
+mlistenernotifyflags
+nsiablistener
+changed
+nscomptr
+nsiablistener
+listener
+mlisteners
+queryelementat
+nsgetiid
+nsiablistener
+getteraddrefs
+listener
+nsassertion
+listener
+listener
+is
+listener
+listener
+onitempropertychanged
+item
+property
+oldvalue
+newvalue
+nsok
+nsimethodimp
+nsaddrbooksession
+notifydirectoryitemadded
+nsiabdirectory
+directory
+nsisupports
+item
+mlisteners
+pruint
+count
+pruint
+nsresult
+rv
+mlisteners
+count
+count
+nsensuresuccess
+rv
+rv
+count
+mlistenernotifyflags
+nsiablistener
+added
+nscomptr
+nsiablistener
+listener
+mlisteners
+queryelementat
+nsgetiid
+nsiablistener
+getteraddrefs
+listener
+nsassertion
+listener
+listener
+is
+listener
+listener
+onitemadded
+directory
+item
+nsok
+nsimethodimp
+nsaddrbooksession
+notifydirectoryitemdeleted
+nsiabdirectory
+directory
+nsisupports
+item
+mlisteners
+pruint
+count
+pruint
+nsresult
+rv
+mlisteners
+count
+count
+nsensuresuccess
+rv
+rv
+count
+mlistenernotifyflags
+nsiablistener
+directoryitemremoved
+nscomptr
+nsiablistener
+listener
+mlisteners
+queryelementat
+nsgetiid
+nsiablistener
+getteraddrefs
+listener
+nsassertion
+listener
+listener
+is
+listener
+listener
+onitemremoved
+directory
+item
+nsok
+nsimethodimp
+nsaddrbooksession
+notifydirectorydeleted
+nsiabdirectory
+directory
+nsisupports
+item
+mlisteners
+pruint
+count
+pruint
+nsresult
+rv
+mlisteners
+count
+count
+nsensuresuccess
+rv
+rv
+count
+mlistenernotifyflags
+nsiablistener
+directoryremoved
+nscomptr
+nsiablistener
+listener
+mlisteners
+queryelementat
+nsgetiid
+nsiablistener
+getteraddrefs
+listener
+nsassertion
+listener
+listener
+is
+listener
+listener
+onitemremoved
+directory
+item
+nsok
+nsimethodimp
+nsaddrbooksession
+getuserprofiledirectory
+nsfilespec
+userdir
+nsensureargpointer
+userdir
+userdir
+nsnull
+nsresult
+rv
+nscomptr
+nsifile
+profiledir
+nscautostring
+pathbuf
+rv
+nsgetspecialdirectory
+nsappuserprofiledir
+getteraddrefs
+profiledir
+nsensuresuccess
+rv
+rv
+rv
+profiledir
+getnativepath
+pathbuf
+nsensuresuccess
+rv
+rv
+userdir
+nsfilespec
+pathbuf
+get
+nsensuretrue
+userdir
+nserroroutofmemory
+rv
+define
+kdisplayname
+define
+klastfirst
+define
+kfirstlast
+nsimethodimp
+nsaddrbooksession
+generatenamefromcard
+nsiabcard
+card
+print
+generateformat
+prunichar
+aname
+nsresult
+rv
+nsok
+generateformat
+kdisplayname
+rv
+card
+getdisplayname
+aname
+nsxpidlstring
+firstname
+nsxpidlstring
+lastname
+rv
+card
+getfirstname
+gettercopies
+firstname
+nsensuresuccess
+rv
+rv
+rv
+card
+getlastname
+gettercopies
+lastname
+nsensuresuccess
+rv
+rv
+lastname
+isempty
+firstname
+isempty
+mbundle
+nscomptr
+nsistringbundleservice
+stringbundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+stringbundleservice
+createbundle
+messenger
+locale
+addressbook
+addressbook
+properties
+getteraddrefs
+mbundle
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+generatedname
+generateformat
+klastfirst
+prunichar
+stringparams
+lastname
+get
+firstname
+get
+rv
+mbundle
+formatstringfromname
+nsliteralstring
+lastfirstformat
+get
+stringparams
+gettercopies
+generatedname
+prunichar
+stringparams
+firstname
+get
+lastname
+get
+rv
+mbundle
+formatstringfromname
+nsliteralstring
+firstlastformat
+get
+stringparams
+gettercopies
+generatedname
+nsensuresuccess
+rv
+rv
+aname
+tonewunicode
+generatedname
+lastname
+length
+aname
+tonewunicode
+lastname
+firstname
+length
+aname
+tonewunicode
+firstname
+aname
+tonewunicode
+nsliteralstring
+aname
+aname
+nsxpidlstring
+primaryemail
+card
+getprimaryemail
+gettercopies
+primaryemail
+print
+index
+primaryemail
+findchar
+index
+knotfound
+primaryemail
+truncate
+index
+aname
+nsmemory
+free
+aname
+aname
+tonewunicode
+primaryemail
+nsok
+nsimethodimp
+nsaddrbooksession
+generatephoneticnamefromcard
+nsiabcard
+acard
+prbool
+alastnamefirst
+prunichar
+aname
+nsensureargpointer
+acard
+nsensureargpointer
+aname
+nsxpidlstring
+firstname
+nsxpidlstring
+lastname
+nsresult
+rv
+acard
+getphoneticfirstname
+gettercopies
+firstname
+nsensuresuccess
+rv
+rv
+rv
+acard
+getphoneticlastname
+gettercopies
+lastname
+nsensuresuccess
+rv
+rv
+alastnamefirst
+aname
+tonewunicode
+lastname
+firstname
+aname
+tonewunicode
+firstname
+lastname
+aname
+nsok
+nserroroutofmemory
\ No newline at end of file
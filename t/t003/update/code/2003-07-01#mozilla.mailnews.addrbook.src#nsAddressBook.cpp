@@ -0,0 +1,2817 @@
+nscore
+nsiaddressbook
+nsaddressbook
+nsabbasecid
+nsdirprefs
+nsiaddrbooksession
+nsaddrdatabase
+nsioutputstream
+nsnetutil
+msgcore
+nsiimportservice
+nsistringbundle
+plstr
+prmem
+prprf
+nscomptr
+nsirdfcompositedatasource
+nsirdfresource
+nsrdfresource
+nsirdfservice
+nsiservicemanager
+nsappshellcids
+nsiappshellservice
+nsidomwindowinternal
+nsicontentviewer
+nsidocshell
+nsxpidlstring
+nsreadableutils
+nsicategorymanager
+nsiabupgrader
+nsspecialsystemdirectory
+nsifilepicker
+nsipref
+nsiprefservice
+nsiprefbranch
+nsvoidarray
+nsiabcard
+nsiabmdbcard
+plbase
+defined
+xpunix
+defined
+xpbeos
+define
+ldiflinebreak
+define
+ldiflinebreaklen
+define
+ldiflinebreak
+define
+ldiflinebreaklen
+endif
+define
+mozabobjectclass
+mozillaabpersonobsolete
+nsaddressbook
+nsaddressbook
+mdocshell
+nsnull
+nsaddressbook
+nsaddressbook
+nsimplthreadsafeaddref
+nsaddressbook
+nsimplthreadsaferelease
+nsaddressbook
+nsimplqueryinterface
+nsaddressbook
+nsiaddressbook
+nsicmdlinehandler
+nsimethodimp
+nsaddressbook
+newaddressbook
+nsiabdirectoryproperties
+aproperties
+nsensureargpointer
+aproperties
+nsresult
+rv
+nscomptr
+nsirdfservice
+rdfservice
+dogetservice
+nsrdfcontractid
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+parentresource
+rv
+rdfservice
+getresource
+nsliteralcstring
+kalldirectoryroot
+getteraddrefs
+parentresource
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabdirectory
+parentdir
+doqueryinterface
+parentresource
+rv
+nsensuresuccess
+rv
+rv
+rv
+parentdir
+createnewdirectory
+aproperties
+rv
+nsimethodimp
+nsaddressbook
+modifyaddressbook
+nsirdfdatasource
+ads
+nsiabdirectory
+aparentdir
+nsiabdirectory
+adirectory
+nsiabdirectoryproperties
+aproperties
+nsensureargpointer
+ads
+nsensureargpointer
+aparentdir
+nsensureargpointer
+adirectory
+nsensureargpointer
+aproperties
+nsresult
+rv
+nscomptr
+nsisupportsarray
+parentarray
+docreateinstance
+nssupportsarraycontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupportsarray
+resourceelement
+docreateinstance
+nssupportsarraycontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupportsarray
+resourcearray
+docreateinstance
+nssupportsarraycontractid
+rv
+nsensuresuccess
+rv
+rv
+parentarray
+appendelement
+aparentdir
+nscomptr
+nsirdfresource
+dirsource
+doqueryinterface
+adirectory
+rv
+nsensuresuccess
+rv
+rv
+resourceelement
+appendelement
+dirsource
+resourceelement
+appendelement
+aproperties
+resourcearray
+appendelement
+resourceelement
+docommand
+ads
+nsliteralcstring
+ncrdfmodify
+parentarray
+resourcearray
+nsimethodimp
+nsaddressbook
+deleteaddressbooks
+nsirdfdatasource
+ads
+nsisupportsarray
+aparentdir
+nsisupportsarray
+aresourcearray
+nsensureargpointer
+ads
+nsensureargpointer
+aparentdir
+nsensureargpointer
+aresourcearray
+docommand
+ads
+nsliteralcstring
+ncrdfdelete
+aparentdir
+aresourcearray
+nsresult
+nsaddressbook
+docommand
+nsirdfdatasource
+db
+nsacstring
+command
+nsisupportsarray
+srcarray
+nsisupportsarray
+argumentarray
+nsresult
+rv
+nsok
+nscomptr
+nsirdfservice
+rdfservice
+dogetservice
+nsrdfcontractid
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+commandresource
+rv
+rdfservice
+getresource
+command
+getteraddrefs
+commandresource
+nssucceeded
+rv
+rv
+db
+docommand
+srcarray
+commandresource
+argumentarray
+rv
+nsimethodimp
+nsaddressbook
+setdocshellwindow
+nsidomwindowinternal
+awin
+nsprecondition
+awin
+nsnull
+ptr
+awin
+nserrornullpointer
+nscomptr
+nsiscriptglobalobject
+globalobj
+doqueryinterface
+awin
+globalobj
+nserrorfailure
+globalobj
+getdocshell
+mdocshell
+mdocshell
+nserrornotinitialized
+mdocshell
+release
+nsok
+nsimethodimp
+nsaddressbook
+getabdatabasefromuri
+auri
+nsiaddrdatabase
+adb
+nsensureargpointer
+auri
+nsensureargpointer
+adb
+nsresult
+rv
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+rv
+nsensuresuccess
+rv
+rv
+nsfilespec
+dbpath
+rv
+absession
+getuserprofiledirectory
+dbpath
+nsensuresuccess
+rv
+rv
+strlen
+auri
+kmdbdirectoryrootlen
+nserrorunexpected
+nscautostring
+file
+auri
+kmdbdirectoryrootlen
+print
+pos
+file
+find
+pos
+knotfound
+file
+truncate
+pos
+dbpath
+file
+get
+nscomptr
+nsiaddrdatabase
+addrdbfactory
+dogetservice
+nsaddrdatabasecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+addrdbfactory
+open
+dbpath
+prtrue
+adb
+prtrue
+dbpath
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsaddressbook
+getabdatabasefromfile
+pdbfile
+nsiaddrdatabase
+db
+nsresult
+rv
+nsok
+nscomptr
+nsiaddrdatabase
+database
+pdbfile
+nsfilespec
+dbpath
+nsnull
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+rv
+nssucceeded
+rv
+absession
+getuserprofiledirectory
+dbpath
+nscautostring
+file
+pdbfile
+dbpath
+file
+get
+nscomptr
+nsiaddrdatabase
+addrdbfactory
+dogetservice
+nsaddrdatabasecontractid
+rv
+nssucceeded
+rv
+addrdbfactory
+rv
+addrdbfactory
+open
+dbpath
+prtrue
+getteraddrefs
+database
+prtrue
+dbpath
+nssucceeded
+rv
+database
+nsifaddref
+db
+database
+rv
+nserrornullpointer
+nsok
+nsimethodimp
+nsaddressbook
+maillistnameexists
+prunichar
+name
+prbool
+exist
+exist
+prfalse
+nsvoidarray
+pdirectories
+dirgetdirectories
+pdirectories
+print
+count
+pdirectories
+count
+print
+count
+dirserver
+server
+dirserver
+pdirectories
+elementat
+server
+dirtype
+pabdirectory
+pruint
+filenamelen
+strlen
+server
+filename
+filenamelen
+kabfilenameprevioussuffixlen
+strcmp
+server
+filename
+filenamelen
+kabfilenameprevioussuffixlen
+kabfilenameprevioussuffix
+nscomptr
+nsiaddrdatabase
+database
+nsresult
+rv
+getabdatabasefromfile
+server
+filename
+getteraddrefs
+database
+nssucceeded
+rv
+database
+database
+findmaillistbyunicodename
+name
+exist
+exist
+nsok
+nsok
+addressbookparser
+nscautostring
+mline
+nscomptr
+nsifilespec
+mfilespec
+mdburi
+nscomptr
+nsiaddrdatabase
+mdatabase
+prbool
+mmigrating
+prbool
+mstorelocashome
+prbool
+mdeletedb
+prbool
+mimportingcommx
+print
+mlfcount
+print
+mcrcount
+nsresult
+parseldiffile
+addldifrowtodatabase
+prbool
+bislist
+addldifcoltodatabase
+nsimdbrow
+newrow
+typeslot
+valueslot
+prbool
+bislist
+clearldifrecordbuffer
+nsresult
+getldifstringrecord
+buf
+print
+len
+print
+stoppos
+nsresult
+strparseline
+line
+type
+value
+vlen
+strgetline
+next
+addressbookparser
+nsifilespec
+filespec
+prbool
+migrating
+nsiaddrdatabase
+db
+prbool
+bstorelocashome
+prbool
+bimportingcommx
+addressbookparser
+nsresult
+parsefile
+addressbookparser
+addressbookparser
+nsifilespec
+filespec
+prbool
+migrating
+nsiaddrdatabase
+db
+prbool
+bstorelocashome
+prbool
+bimportingcommx
+mfilespec
+filespec
+mdburi
+nsnull
+mmigrating
+migrating
+mdatabase
+db
+mdatabase
+mdeletedb
+prfalse
+mdeletedb
+prtrue
+mstorelocashome
+bstorelocashome
+mimportingcommx
+bimportingcommx
+mlfcount
+mcrcount
+addressbookparser
+addressbookparser
+mdburi
+prsmprintffree
+mdburi
+mdatabase
+mdeletedb
+mdatabase
+close
+prtrue
+mdatabase
+nsnull
+nsresult
+addressbookparser
+parsefile
+mline
+truncate
+mimportingcommx
+mdatabase
+parseldiffile
+leafname
+nsnull
+mfilespec
+mfilespec
+getleafname
+leafname
+print
+leafname
+leafname
+leafname
+leafname
+mdburi
+prsmprintf
+mab
+kmdbdirectoryroot
+leafname
+nsresult
+rv
+nsok
+nsfilespec
+dbpath
+nsnull
+filename
+prsmprintf
+mab
+leafname
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+rv
+nssucceeded
+rv
+absession
+getuserprofiledirectory
+dbpath
+dbpath
+dbpath
+filename
+nscomptr
+nsiaddrdatabase
+addrdbfactory
+dogetservice
+nsaddrdatabasecontractid
+rv
+nssucceeded
+rv
+addrdbfactory
+rv
+addrdbfactory
+open
+dbpath
+prtrue
+getteraddrefs
+mdatabase
+prtrue
+nsensuresuccess
+rv
+rv
+dbpath
+nscomptr
+nsirdfservice
+rdfservice
+dogetservice
+nsrdfcontractid
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+parentresource
+rv
+rdfservice
+getresource
+nsliteralcstring
+kalldirectoryroot
+getteraddrefs
+parentresource
+nscomptr
+nsiabdirectory
+parentdir
+doqueryinterface
+parentresource
+parentdir
+nserrornullpointer
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+ppref
+nsnull
+nsxpidlstring
+dirname
+strcmp
+filename
+kpersonaladdressbook
+rv
+ppref
+getlocalizedunicharpref
+ldap
+servers
+pab
+description
+gettercopies
+dirname
+nscautostring
+prefname
+prefname
+nsliteralcstring
+ldap
+servers
+nsdependentcstring
+leafname
+nsliteralcstring
+description
+rv
+ppref
+getlocalizedunicharpref
+prefname
+get
+gettercopies
+dirname
+nsfailed
+rv
+dirname
+isempty
+dirname
+nsconvertasciitoucs
+leafname
+parentdir
+createdirectorybyuri
+dirname
+mdburi
+mmigrating
+rv
+parseldiffile
+leafname
+nscrt
+free
+leafname
+filename
+prsmprintffree
+filename
+rv
+define
+right
+define
+right
+xf
+define
+continuedlinemarker
+bnib
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xe
+xff
+xff
+xff
+xf
+xa
+xb
+xc
+xd
+xff
+xff
+xff
+xff
+xff
+xff
+xff
+xa
+xb
+xc
+xd
+xe
+xf
+xff
+xff
+xff
+xff
+xff
+xff
+xa
+xb
+xc
+xd
+xe
+xf
+xa
+xb
+xc
+xd
+xe
+xf
+xff
+xff
+xff
+xff
+xff
+nsresult
+addressbookparser
+strparseline
+line
+type
+value
+vlen
+stop
+nib
+isspace
+line
+line
+type
+line
+line
+nserrorfailure
+line
+nsstring
+isspace
+isspace
+nserrorfailure
+continuedlinemarker
+value
+stop
+plstrchr
+vlen
+stop
+vlen
+bnib
+xf
+xf
+nserrorfailure
+nib
+bnib
+xf
+nib
+nib
+bnib
+xf
+nib
+nib
+right
+vlen
+nib
+bnib
+xf
+nib
+nib
+right
+vlen
+nib
+bnib
+xf
+nib
+vlen
+vlen
+nsok
+addressbookparser
+strgetline
+next
+linestr
+next
+next
+next
+linestr
+next
+next
+plstrchr
+next
+next
+isspace
+next
+continuedlinemarker
+next
+continuedlinemarker
+next
+linestr
+nsresult
+addressbookparser
+getldifstringrecord
+buf
+print
+len
+print
+stoppos
+stoppos
+len
+stoppos
+buf
+stoppos
+xa
+mlfcount
+xd
+mcrcount
+xa
+xd
+mlfcount
+mcrcount
+mline
+append
+mlfcount
+mcrcount
+mlfcount
+mlfcount
+mcrcount
+nsok
+mlfcount
+mcrcount
+mline
+append
+mline
+append
+mlfcount
+mcrcount
+stoppos
+len
+mlfcount
+mcrcount
+mlfcount
+mlfcount
+mcrcount
+nsok
+nserrorfailure
+nsresult
+addressbookparser
+parseldiffile
+buf
+pbuf
+buf
+print
+startpos
+print
+len
+prbool
+beof
+prfalse
+nsvoidarray
+listposarray
+nsvoidarray
+listsizearray
+print
+savedstartpos
+print
+filepos
+nssucceeded
+mfilespec
+eof
+beof
+beof
+nssucceeded
+mfilespec
+read
+pbuf
+print
+buf
+len
+len
+startpos
+nssucceeded
+getldifstringrecord
+buf
+len
+startpos
+mline
+find
+groupofnames
+knotfound
+addldifrowtodatabase
+prfalse
+listposarray
+appendelement
+savedstartpos
+listsizearray
+appendelement
+filepos
+startpos
+savedstartpos
+clearldifrecordbuffer
+savedstartpos
+filepos
+startpos
+filepos
+len
+mline
+isempty
+mline
+find
+groupofnames
+knotfound
+addldifrowtodatabase
+prfalse
+print
+pos
+size
+print
+listtotal
+listposarray
+count
+listbuf
+clearldifrecordbuffer
+listtotal
+pos
+nsptrtoint
+listposarray
+elementat
+size
+nsptrtoint
+listsizearray
+elementat
+nssucceeded
+mfilespec
+seek
+pos
+listbuf
+prmalloc
+size
+listbuf
+nssucceeded
+mfilespec
+read
+listbuf
+size
+len
+len
+startpos
+nssucceeded
+getldifstringrecord
+listbuf
+len
+startpos
+mline
+find
+groupofnames
+knotfound
+addldifrowtodatabase
+prtrue
+nssucceeded
+mfilespec
+seek
+prfreeif
+listbuf
+nsok
+addressbookparser
+addldifrowtodatabase
+prbool
+bislist
+mline
+isempty
+mlfcount
+mcrcount
+nscomptr
+nsimdbrow
+newrow
+mdatabase
+bislist
+mdatabase
+getnewlistrow
+getteraddrefs
+newrow
+mdatabase
+getnewrow
+getteraddrefs
+newrow
+newrow
+cursor
+tonewcstring
+mline
+savecursor
+cursor
+line
+typeslot
+valueslot
+length
+line
+strgetline
+cursor
+strparseline
+line
+typeslot
+valueslot
+length
+addldifcoltodatabase
+newrow
+typeslot
+valueslot
+bislist
+nsmemory
+free
+savecursor
+mdatabase
+addcardrowtodb
+newrow
+bislist
+mdatabase
+addlistdirnode
+newrow
+clearldifrecordbuffer
+addressbookparser
+clearldifrecordbuffer
+mline
+isempty
+mline
+truncate
+mlfcount
+mcrcount
+addressbookparser
+addldifcoltodatabase
+nsimdbrow
+newrow
+typeslot
+valueslot
+prbool
+bislist
+nscautostring
+coltype
+typeslot
+nscautostring
+column
+valueslot
+mdbu
+firstbyte
+mdbu
+coltype
+get
+firstbyte
+knotfound
+coltype
+find
+birthyear
+mdatabase
+addbirthyear
+newrow
+column
+get
+knotfound
+coltype
+find
+cn
+knotfound
+coltype
+find
+commonname
+bislist
+mdatabase
+addlistname
+newrow
+column
+get
+mdatabase
+adddisplayname
+newrow
+column
+get
+knotfound
+coltype
+find
+countryname
+mstorelocashome
+mdatabase
+addhomecountry
+newrow
+column
+get
+mdatabase
+addworkcountry
+newrow
+column
+get
+knotfound
+coltype
+find
+cellphone
+mdatabase
+addcellularnumber
+newrow
+column
+get
+knotfound
+coltype
+find
+carphone
+mdatabase
+addcellularnumber
+newrow
+column
+get
+knotfound
+coltype
+find
+custom
+mdatabase
+addcustom
+newrow
+column
+get
+knotfound
+coltype
+find
+custom
+mdatabase
+addcustom
+newrow
+column
+get
+knotfound
+coltype
+find
+custom
+mdatabase
+addcustom
+newrow
+column
+get
+knotfound
+coltype
+find
+custom
+mdatabase
+addcustom
+newrow
+column
+get
+knotfound
+coltype
+find
+company
+mdatabase
+addcompany
+newrow
+column
+get
+knotfound
+coltype
+find
+description
+bislist
+mdatabase
+addlistdescription
+newrow
+column
+get
+mdatabase
+addnotes
+newrow
+column
+get
+knotfound
+coltype
+find
+department
+mdatabase
+adddepartment
+newrow
+column
+get
+knotfound
+coltype
+find
+fax
+knotfound
+coltype
+find
+facsimiletelephonenumber
+mdatabase
+addfaxnumber
+newrow
+column
+get
+knotfound
+coltype
+find
+givenname
+mdatabase
+addfirstname
+newrow
+column
+get
+knotfound
+coltype
+find
+homephone
+mdatabase
+addhomephone
+newrow
+column
+get
+knotfound
+coltype
+find
+homeurl
+mdatabase
+addwebpage
+newrow
+column
+get
+knotfound
+coltype
+find
+knotfound
+coltype
+find
+locality
+mstorelocashome
+mdatabase
+addhomecity
+newrow
+column
+get
+mdatabase
+addworkcity
+newrow
+column
+get
+knotfound
+coltype
+find
+mail
+mdatabase
+addprimaryemail
+newrow
+column
+get
+knotfound
+coltype
+find
+member
+bislist
+mdatabase
+addldiflistmember
+newrow
+column
+get
+knotfound
+coltype
+find
+notes
+mdatabase
+addnotes
+newrow
+column
+get
+knotfound
+coltype
+find
+objectclass
+knotfound
+coltype
+find
+ou
+knotfound
+coltype
+find
+orgunit
+mdatabase
+adddepartment
+newrow
+column
+get
+knotfound
+coltype
+find
+mdatabase
+addcompany
+newrow
+column
+get
+knotfound
+coltype
+find
+postalcode
+mstorelocashome
+mdatabase
+addhomezipcode
+newrow
+column
+get
+mdatabase
+addworkzipcode
+newrow
+column
+get
+knotfound
+coltype
+find
+postofficebox
+mdatabase
+addworkaddress
+newrow
+column
+get
+knotfound
+coltype
+find
+pager
+knotfound
+coltype
+find
+pagerphone
+mdatabase
+addpagernumber
+newrow
+column
+get
+knotfound
+coltype
+find
+region
+mstorelocashome
+mdatabase
+addworkstate
+newrow
+column
+get
+mdatabase
+addworkstate
+newrow
+column
+get
+knotfound
+coltype
+find
+sn
+knotfound
+coltype
+find
+surname
+mdatabase
+addlastname
+newrow
+column
+get
+knotfound
+coltype
+find
+streetaddress
+mstorelocashome
+mdatabase
+addhomeaddress
+newrow
+column
+get
+mdatabase
+addworkaddress
+newrow
+column
+get
+knotfound
+coltype
+find
+st
+mstorelocashome
+mdatabase
+addhomestate
+newrow
+column
+get
+mdatabase
+addworkstate
+newrow
+column
+get
+knotfound
+coltype
+find
+title
+mdatabase
+addjobtitle
+newrow
+column
+get
+knotfound
+coltype
+find
+telephonenumber
+mdatabase
+addworkphone
+newrow
+column
+get
+knotfound
+coltype
+find
+uniquemember
+bislist
+mdatabase
+addldiflistmember
+newrow
+column
+get
+knotfound
+coltype
+find
+workurl
+mdatabase
+addwebpage
+newrow
+column
+get
+knotfound
+coltype
+find
+xmozillanickname
+bislist
+mdatabase
+addlistnickname
+newrow
+column
+get
+mdatabase
+addnickname
+newrow
+column
+get
+knotfound
+coltype
+find
+xmozillausehtmlmail
+tolowercase
+column
+knotfound
+column
+find
+mdatabase
+addprefermailformat
+newrow
+nsiabprefermailformat
+html
+mdatabase
+addprefermailformat
+newrow
+nsiabprefermailformat
+unknown
+knotfound
+coltype
+find
+zip
+mstorelocashome
+mdatabase
+addhomezipcode
+newrow
+column
+get
+mdatabase
+addworkzipcode
+newrow
+column
+get
+nsimethodimp
+nsaddressbook
+convertnatoldif
+nsifilespec
+srcfilespec
+nsifilespec
+dstfilespec
+nsresult
+rv
+nsok
+srcfilespec
+dstfilespec
+nserrornullpointer
+nscomptr
+nsiabupgrader
+abupgrader
+dogetservice
+nsabxupgradercontractid
+rv
+nsensuresuccess
+rv
+rv
+abupgrader
+nserrorfailure
+rv
+abupgrader
+startupgradexaddrbook
+srcfilespec
+dstfilespec
+nssucceeded
+rv
+prbool
+done
+prfalse
+rv
+abupgrader
+continueexport
+done
+printf
+converting
+na
+to
+ldif
+nssucceeded
+rv
+done
+rv
+nsimethodimp
+nsaddressbook
+convertldiftomab
+nsifilespec
+filespec
+prbool
+migrating
+nsiaddrdatabase
+db
+prbool
+bstorelocashome
+prbool
+bimportingcommx
+nsresult
+rv
+filespec
+nserrorfailure
+rv
+filespec
+openstreamforreading
+nsensuresuccess
+rv
+rv
+addressbookparser
+abparser
+filespec
+migrating
+db
+bstorelocashome
+bimportingcommx
+rv
+abparser
+parsefile
+nsensuresuccess
+rv
+rv
+filespec
+closestream
+db
+rv
+db
+commit
+nsaddrdbcommittype
+klargecommit
+rv
+define
+csvdelim
+define
+csvdelimlen
+define
+tabdelim
+define
+tabdelimlen
+define
+ldifdelim
+nsnull
+define
+ldifdelimlen
+define
+csvfileextension
+csv
+define
+tabfileextension
+tab
+define
+txtfileextension
+txt
+define
+ldiffileextension
+ldi
+define
+ldiffileextension
+ldif
+addressbookexportfiletype
+ldifexporttype
+csvexporttype
+tabexporttype
+nsimethodimp
+nsaddressbook
+exportaddressbook
+nsiabdirectory
+adirectory
+nsresult
+rv
+nscomptr
+nsifilepicker
+filepicker
+docreateinstance
+filepicker
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsistringbundleservice
+bundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsistringbundle
+bundle
+rv
+bundleservice
+createbundle
+messenger
+locale
+addressbook
+addressbook
+properties
+getteraddrefs
+bundle
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+title
+rv
+bundle
+getstringfromname
+nsliteralstring
+exportaddressbooktitle
+get
+gettercopies
+title
+nsensuresuccess
+rv
+rv
+rv
+filepicker
+init
+nsnull
+title
+get
+nsifilepicker
+modesave
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+filterstring
+rv
+bundle
+getstringfromname
+nsliteralstring
+ldiffiles
+get
+gettercopies
+filterstring
+nsensuresuccess
+rv
+rv
+rv
+filepicker
+appendfilter
+filterstring
+get
+nsliteralstring
+ldi
+ldif
+get
+nsensuresuccess
+rv
+rv
+rv
+bundle
+getstringfromname
+nsliteralstring
+csvfiles
+get
+gettercopies
+filterstring
+nsensuresuccess
+rv
+rv
+rv
+filepicker
+appendfilter
+filterstring
+get
+nsliteralstring
+csv
+get
+nsensuresuccess
+rv
+rv
+rv
+bundle
+getstringfromname
+nsliteralstring
+tabfiles
+get
+gettercopies
+filterstring
+nsensuresuccess
+rv
+rv
+rv
+filepicker
+appendfilter
+filterstring
+get
+nsliteralstring
+tab
+txt
+get
+nsensuresuccess
+rv
+rv
+print
+dialogresult
+filepicker
+show
+dialogresult
+dialogresult
+nsifilepicker
+returncancel
+rv
+nscomptr
+nsilocalfile
+localfile
+rv
+filepicker
+getfile
+getteraddrefs
+localfile
+nsensuresuccess
+rv
+rv
+dialogresult
+nsifilepicker
+returnreplace
+prbool
+isfile
+rv
+localfile
+isfile
+isfile
+nssucceeded
+rv
+isfile
+rv
+localfile
+remove
+prfalse
+nsensuresuccess
+rv
+rv
+print
+exporttype
+rv
+filepicker
+getfilterindex
+exporttype
+nsensuresuccess
+rv
+rv
+nsautostring
+filename
+rv
+localfile
+getleafname
+filename
+nsensuresuccess
+rv
+rv
+exporttype
+ldifexporttype
+filename
+rfind
+ldiffileextension
+prtrue
+ldiffileextension
+knotfound
+filename
+rfind
+ldiffileextension
+prtrue
+ldiffileextension
+knotfound
+filename
+append
+nsliteralstring
+ldiffileextension
+localfile
+setleafname
+filename
+rv
+exportdirectorytoldif
+adirectory
+localfile
+csvexporttype
+filename
+rfind
+csvfileextension
+prtrue
+csvfileextension
+knotfound
+filename
+append
+nsliteralstring
+csvfileextension
+localfile
+setleafname
+filename
+rv
+exportdirectorytodelimitedtext
+adirectory
+csvdelim
+csvdelimlen
+localfile
+tabexporttype
+filename
+rfind
+txtfileextension
+prtrue
+txtfileextension
+knotfound
+filename
+rfind
+tabfileextension
+prtrue
+tabfileextension
+knotfound
+filename
+append
+nsliteralstring
+txtfileextension
+localfile
+setleafname
+filename
+rv
+exportdirectorytodelimitedtext
+adirectory
+tabdelim
+tabdelimlen
+localfile
+rv
+nsresult
+nsaddressbook
+exportdirectorytodelimitedtext
+nsiabdirectory
+adirectory
+adelim
+pruint
+adelimlen
+nsilocalfile
+alocalfile
+nscomptr
+nsienumerator
+cardsenumerator
+nscomptr
+nsiabcard
+card
+nsresult
+rv
+nscomptr
+nsiimportservice
+importservice
+dogetservice
+nsimportservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsioutputstream
+outputstream
+rv
+nsnewlocalfileoutputstream
+getteraddrefs
+outputstream
+alocalfile
+prcreatefile
+prwronly
+prtruncate
+nsfailed
+rv
+rv
+pruint
+pruint
+writecount
+pruint
+length
+ifdef
+exportlikeoedoes
+exportattributestablecount
+exportattributestable
+includeforplaintext
+length
+strlen
+exportattributestable
+abcolname
+rv
+outputstream
+write
+exportattributestablecount
+abcolname
+length
+writecount
+nsensuresuccess
+rv
+rv
+length
+writecount
+nserrorfailure
+exportattributestablecount
+rv
+outputstream
+write
+adelim
+adelimlen
+writecount
+nsensuresuccess
+rv
+rv
+adelimlen
+writecount
+nserrorfailure
+rv
+outputstream
+write
+msglinebreak
+msglinebreaklen
+writecount
+nsensuresuccess
+rv
+rv
+msglinebreaklen
+writecount
+nserrorfailure
+endif
+rv
+adirectory
+getchildcards
+getteraddrefs
+cardsenumerator
+nssucceeded
+rv
+cardsenumerator
+nscomptr
+nsisupports
+item
+rv
+cardsenumerator
+first
+nssucceeded
+rv
+rv
+cardsenumerator
+next
+rv
+cardsenumerator
+currentitem
+getteraddrefs
+item
+nssucceeded
+rv
+nscomptr
+nsiabcard
+card
+doqueryinterface
+item
+rv
+nsensuresuccess
+rv
+rv
+prbool
+ismaillist
+rv
+card
+getismaillist
+ismaillist
+nsensuresuccess
+rv
+rv
+ismaillist
+nsxpidlstring
+value
+nscstring
+valuecstr
+exportattributestablecount
+exportattributestable
+includeforplaintext
+rv
+card
+getcardvalue
+exportattributestable
+abcolname
+gettercopies
+value
+nsensuresuccess
+rv
+rv
+nsautostring
+newvalue
+value
+prbool
+needsquotes
+prfalse
+newvalue
+findchar
+knotfound
+needsquotes
+prtrue
+newvalue
+replacesubstring
+nsliteralstring
+get
+nsliteralstring
+get
+needsquotes
+newvalue
+findchar
+knotfound
+newvalue
+findchar
+knotfound
+needsquotes
+prtrue
+needsquotes
+newvalue
+insert
+nsliteralstring
+newvalue
+append
+nsliteralstring
+strcmp
+exportattributestable
+abcolname
+knotescolumn
+newvalue
+isempty
+newvalue
+replacechar
+nscrt
+cr
+newvalue
+replacechar
+nscrt
+lf
+rv
+importservice
+systemstringfromunicode
+newvalue
+get
+valuecstr
+nsfailed
+rv
+nsassertion
+failed
+to
+convert
+to
+system
+charset
+use
+ldif
+valuecstr
+length
+valuecstr
+length
+length
+rv
+outputstream
+write
+valuecstr
+get
+length
+writecount
+nsensuresuccess
+rv
+rv
+length
+writecount
+nserrorfailure
+valuecstr
+exportattributestablecount
+rv
+outputstream
+write
+adelim
+adelimlen
+writecount
+nsensuresuccess
+rv
+rv
+adelimlen
+writecount
+nserrorfailure
+rv
+outputstream
+write
+msglinebreak
+msglinebreaklen
+writecount
+nsensuresuccess
+rv
+rv
+msglinebreaklen
+writecount
+nserrorfailure
+rv
+outputstream
+flush
+nsensuresuccess
+rv
+rv
+rv
+outputstream
+close
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsaddressbook
+exportdirectorytoldif
+nsiabdirectory
+adirectory
+nsilocalfile
+alocalfile
+nscomptr
+nsienumerator
+cardsenumerator
+nscomptr
+nsiabcard
+card
+nsresult
+rv
+nscomptr
+nsioutputstream
+outputstream
+rv
+nsnewlocalfileoutputstream
+getteraddrefs
+outputstream
+alocalfile
+prcreatefile
+prwronly
+prtruncate
+nsfailed
+rv
+rv
+pruint
+pruint
+writecount
+pruint
+length
+rv
+adirectory
+getchildcards
+getteraddrefs
+cardsenumerator
+nssucceeded
+rv
+cardsenumerator
+nscomptr
+nsisupports
+item
+rv
+cardsenumerator
+first
+nssucceeded
+rv
+rv
+cardsenumerator
+next
+rv
+cardsenumerator
+currentitem
+getteraddrefs
+item
+nssucceeded
+rv
+nscomptr
+nsiabcard
+card
+doqueryinterface
+item
+rv
+nsensuresuccess
+rv
+rv
+prbool
+ismaillist
+rv
+card
+getismaillist
+ismaillist
+nsensuresuccess
+rv
+rv
+ismaillist
+nscstring
+maillistcstr
+rv
+appendldifformaillist
+card
+maillistcstr
+nsensuresuccess
+rv
+rv
+length
+maillistcstr
+length
+rv
+outputstream
+write
+maillistcstr
+get
+length
+writecount
+nsensuresuccess
+rv
+rv
+length
+writecount
+nserrorfailure
+nsxpidlstring
+value
+nscstring
+valuecstr
+rv
+appendbasicldifforcard
+card
+valuecstr
+nsensuresuccess
+rv
+rv
+length
+valuecstr
+length
+rv
+outputstream
+write
+valuecstr
+get
+length
+writecount
+nsensuresuccess
+rv
+rv
+length
+writecount
+nserrorfailure
+valuecstr
+exportattributestablecount
+exportattributestable
+ldappropertyname
+rv
+card
+getcardvalue
+exportattributestable
+abcolname
+gettercopies
+value
+nsensuresuccess
+rv
+rv
+plstrcmp
+exportattributestable
+abcolname
+kprefermailformatcolumn
+value
+equals
+nsliteralstring
+html
+get
+value
+nsliteralstring
+value
+equals
+nsliteralstring
+plaintext
+get
+value
+nsliteralstring
+value
+nsliteralstring
+value
+isempty
+rv
+appendproperty
+exportattributestable
+ldappropertyname
+value
+get
+valuecstr
+nsensuresuccess
+rv
+rv
+valuecstr
+ldiflinebreak
+valuecstr
+length
+valuecstr
+length
+length
+rv
+outputstream
+write
+valuecstr
+get
+length
+writecount
+nsensuresuccess
+rv
+rv
+length
+writecount
+nserrorfailure
+valuecstr
+rv
+outputstream
+write
+ldiflinebreak
+ldiflinebreaklen
+writecount
+nsensuresuccess
+rv
+rv
+ldiflinebreaklen
+writecount
+nserrorfailure
+rv
+outputstream
+flush
+nsensuresuccess
+rv
+rv
+rv
+outputstream
+close
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsaddressbook
+appendldifformaillist
+nsiabcard
+acard
+nsacstring
+aresult
+nsresult
+rv
+nsxpidlstring
+attrvalue
+rv
+acard
+getcardvalue
+kdisplaynamecolumn
+gettercopies
+attrvalue
+nsensuresuccess
+rv
+rv
+rv
+appenddnforcard
+dn
+acard
+aresult
+nsensuresuccess
+rv
+rv
+aresult
+ldiflinebreak
+objectclass
+top
+ldiflinebreak
+objectclass
+groupofnames
+ldiflinebreak
+rv
+appendproperty
+cn
+attrvalue
+get
+aresult
+nsensuresuccess
+rv
+rv
+aresult
+ldiflinebreak
+rv
+acard
+getcardvalue
+knicknamecolumn
+gettercopies
+attrvalue
+nsensuresuccess
+rv
+rv
+attrvalue
+isempty
+rv
+appendproperty
+xmozillanickname
+attrvalue
+get
+aresult
+nsensuresuccess
+rv
+rv
+aresult
+ldiflinebreak
+rv
+acard
+getcardvalue
+knotescolumn
+gettercopies
+attrvalue
+nsensuresuccess
+rv
+rv
+attrvalue
+isempty
+rv
+appendproperty
+description
+attrvalue
+get
+aresult
+nsensuresuccess
+rv
+rv
+aresult
+ldiflinebreak
+nscomptr
+nsirdfservice
+rdfservice
+dogetservice
+rdf
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+maillisturi
+rv
+acard
+getmaillisturi
+gettercopies
+maillisturi
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+resource
+rv
+rdfservice
+getresource
+maillisturi
+getteraddrefs
+resource
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabdirectory
+maillist
+doqueryinterface
+resource
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupportsarray
+addresses
+rv
+maillist
+getaddresslists
+getteraddrefs
+addresses
+addresses
+pruint
+total
+addresses
+count
+total
+total
+pruint
+total
+nscomptr
+nsiabcard
+listcard
+doqueryelementat
+addresses
+rv
+nsensuresuccess
+rv
+rv
+rv
+appenddnforcard
+member
+listcard
+aresult
+nsensuresuccess
+rv
+rv
+aresult
+ldiflinebreak
+aresult
+ldiflinebreak
+nsok
+nsresult
+nsaddressbook
+appenddnforcard
+aproperty
+nsiabcard
+acard
+nsacstring
+aresult
+nsxpidlstring
+email
+nsxpidlstring
+displayname
+nsresult
+rv
+acard
+getcardvalue
+kpriemailcolumn
+gettercopies
+email
+nsensuresuccess
+rv
+rv
+rv
+acard
+getcardvalue
+kdisplaynamecolumn
+gettercopies
+displayname
+nsensuresuccess
+rv
+rv
+nsstring
+cnstr
+displayname
+isempty
+cnstr
+nsliteralstring
+cn
+displayname
+email
+isempty
+cnstr
+nsliteralstring
+email
+isempty
+cnstr
+nsliteralstring
+mail
+email
+rv
+appendproperty
+aproperty
+cnstr
+get
+aresult
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsaddressbook
+appendbasicldifforcard
+nsiabcard
+acard
+nsacstring
+aresult
+nsresult
+rv
+appenddnforcard
+dn
+acard
+aresult
+nsensuresuccess
+rv
+rv
+aresult
+ldiflinebreak
+objectclass
+top
+ldiflinebreak
+objectclass
+person
+ldiflinebreak
+objectclass
+organizationalperson
+ldiflinebreak
+objectclass
+inetorgperson
+ldiflinebreak
+objectclass
+mozabobjectclass
+ldiflinebreak
+rv
+prbool
+nsaddressbook
+issafeldifstring
+prunichar
+astr
+astr
+prunichar
+astr
+prunichar
+astr
+prunichar
+prfalse
+pruint
+pruint
+len
+nscrt
+strlen
+astr
+len
+astr
+prunichar
+astr
+prunichar
+nscrt
+isascii
+astr
+prfalse
+prtrue
+nsresult
+nsaddressbook
+appendproperty
+aproperty
+prunichar
+avalue
+nsacstring
+aresult
+nsensureargpointer
+avalue
+aresult
+aproperty
+issafeldifstring
+avalue
+aresult
+nsliteralcstring
+nslossyconvertucstoascii
+avalue
+basestr
+plbaseencode
+nsconvertucstoutf
+avalue
+get
+nsnull
+basestr
+nserroroutofmemory
+aresult
+nsliteralcstring
+nsdependentcstring
+basestr
+prfree
+basestr
+nsok
+cmdlinehandlerimpl
+nsaddressbook
+addressbook
+general
+startup
+addressbook
+messenger
+content
+addressbook
+addressbook
+xul
+start
+with
+the
+addressbook
+nsaddressbookstartuphandlercontractid
+addressbook
+startup
+handler
+prfalse
+prtrue
\ No newline at end of file
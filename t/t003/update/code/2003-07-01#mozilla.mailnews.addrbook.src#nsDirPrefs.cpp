@@ -0,0 +1,6707 @@
+nsipref
+nsvoidarray
+nsiservicemanager
+nsdirprefs
+nsiaddrdatabase
+nscomptr
+nsabbasecid
+nsiaddrbooksession
+nsicharsetconvertermanager
+nsiabupgrader
+nsxpidlstring
+nsreadableutils
+prlog
+plstr
+prmem
+prprf
+define
+ldapport
+define
+ldapsport
+define
+prefnoerror
+defined
+mozaddrstandalone
+mkaddrpab
+mkldapcommonname
+mkldapgivenname
+mkldapsurname
+mkldapemailaddress
+mkldapphonenumber
+mkldaporganization
+mkldaporgunit
+mkldaplocality
+mkldapstreet
+mkldapcustom
+mkldapcustom
+mkldapcustom
+mkldapcustom
+mkldapcustom
+mkldapdescription
+mkldapemployeetype
+mkldapfaxnumber
+mkldapmanager
+mkldapobjectclass
+mkldappostaladdress
+mkldappostalcode
+mkldapsecretary
+mkldaptitle
+mkldapcarlicense
+mkldapbusinesscat
+mkldapdeptnumber
+mkldapreplqueryresync
+mkldapnickname
+mkldaphomephone
+mkldapmobilephone
+mkldappager
+dirresourceid
+define
+nserroroutofmemory
+endif
+define
+xpfileurlpath
+define
+xpfilenativepath
+xpfileurlpath
+xpplatformfiletourl
+xpfilenativepath
+strtokenr
+stringp
+delim
+print
+skip
+spanp
+print
+sc
+tok
+stringp
+skip
+cont
+spanp
+delim
+sc
+spanp
+sc
+cont
+stringp
+tok
+spanp
+delim
+sc
+spanp
+stringp
+tok
+sc
+abpstrtokr
+lasts
+lasts
+strtokenr
+lasts
+dirattribute
+dirattributeid
+id
+prettyname
+attrnames
+dirattribute
+dirdefaultattribute
+dirattributeid
+id
+print
+resourceid
+name
+dirdefaultattribute
+define
+dirfsubststarsforspaces
+define
+dirfrepeatfilterfortokens
+dirfilter
+pruint
+flags
+dirfilter
+dircallback
+dirnotificationfn
+fn
+pruint
+flags
+data
+dircallback
+next
+dircallback
+define
+singlebyte
+define
+multibyte
+define
+csdefault
+singlebyte
+define
+csutf
+multibyte
+define
+csunknown
+singlebyte
+define
+kdefaulttokenseps
+define
+kdefaultsubststarsforspaces
+prtrue
+define
+kdefaultrepeatfilterfortokens
+prtrue
+define
+kdefaultefficientwildcards
+prtrue
+define
+kdefaultfilter
+cn
+define
+kdefaultefficientfilter
+givenname
+sn
+define
+kdefaultstoponhit
+prtrue
+define
+kdefaultmaxhits
+define
+kdefaultisoffline
+prtrue
+define
+kdefaultenableauth
+prfalse
+define
+kdefaultsavepassword
+prfalse
+define
+kdefaultldapcsid
+csutf
+define
+kdefaultpabcsid
+csdefault
+define
+kdefaultvlvdisabled
+prfalse
+define
+kdefaultposition
+define
+kdefaultautocompleteenabled
+prfalse
+define
+kdefaultautocompletenever
+prfalse
+define
+kdefaultreplicatenever
+prfalse
+define
+kdefaultreplicaenabled
+prfalse
+define
+kdefaultreplicafilename
+nsnull
+define
+kdefaultreplicadataversion
+nsnull
+define
+kdefaultreplicadescription
+nsnull
+define
+kdefaultreplicachangenumber
+define
+kdefaultreplicafilter
+objectclass
+define
+kdefaultreplicaexcludedattributes
+nsnull
+define
+kdefaultpabcolumnheaders
+cn
+mail
+nickname
+telephonenumber
+define
+kdefaultldapcolumnheaders
+cn
+mail
+telephonenumber
+nickname
+prbool
+dirisserverdeleted
+dirserver
+server
+dirdefaultattribute
+dirgetdefaultattribute
+dirattributeid
+id
+dirgetstringpref
+prefroot
+prefleaf
+scratch
+defaultvalue
+dirgetlocalizedstringpref
+prefroot
+prefleaf
+scratch
+defaultvalue
+print
+dirgetintpref
+prefroot
+prefleaf
+scratch
+print
+defaultvalue
+prbool
+dirgetboolpref
+prefroot
+prefleaf
+scratch
+prbool
+defaultvalue
+dirconvertdescriptiontoprefname
+dirserver
+server
+dirsetfilename
+filename
+leafname
+print
+prcallback
+dirserverprefcallback
+pref
+instdata
+prbool
+dirserverprefcallbackregistered
+prfalse
+print
+diruserid
+dircallback
+dircallbacklist
+nsnull
+nsvoidarray
+dirserverlist
+nsnull
+nsvoidarray
+dirgetdirectories
+dirserverlist
+dirgetdirservers
+dirserverlist
+nsresult
+dirgetdirservers
+nsresult
+rv
+nsok
+dirserverlist
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+ppref
+nserrorfailure
+rv
+dirgetserverpreferences
+dirserverlist
+nssucceeded
+rv
+dirserverprefcallbackregistered
+dirserverprefcallbackregistered
+prtrue
+ppref
+registercallback
+prefldapservertreename
+dirserverprefcallback
+nsnull
+rv
+nsresult
+dirconverttomabfilename
+dirserverlist
+print
+count
+dirserverlist
+count
+print
+count
+dirserver
+server
+dirserver
+dirserverlist
+elementat
+server
+server
+position
+server
+filename
+pruint
+filenamelen
+strlen
+server
+filename
+filenamelen
+kabfilenameprevioussuffixlen
+strcmp
+server
+filename
+filenamelen
+kabfilenameprevioussuffixlen
+kabfilenameprevioussuffix
+dirserver
+newserver
+nsnull
+dircopyserver
+server
+newserver
+newserver
+position
+count
+newdescription
+prsmprintf
+newserver
+description
+prfreeif
+newserver
+description
+newserver
+description
+newdescription
+newprefname
+prsmprintf
+sx
+newserver
+prefname
+prfreeif
+newserver
+prefname
+newserver
+prefname
+newprefname
+dirserverlist
+appendelement
+newserver
+dirsaveprefsforoneserver
+newserver
+prfreeif
+server
+filename
+server
+filename
+nscrt
+strdup
+kpersonaladdressbook
+dirsaveprefsforoneserver
+server
+nsok
+nsresult
+dirshutdown
+nsresult
+rv
+nsok
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+ppref
+nserrorfailure
+ppref
+savepreffile
+nsnull
+dirserverlist
+print
+count
+dirserverlist
+count
+print
+count
+dirdeleteserver
+dirserver
+dirserverlist
+elementat
+dirserverlist
+dirserverlist
+nsnull
+dirserverprefcallbackregistered
+ppref
+unregistercallback
+prefldapservertreename
+dirserverprefcallback
+nsnull
+dirserverprefcallbackregistered
+prfalse
+nsok
+nsresult
+dircontainsserver
+dirserver
+pserver
+prbool
+hasdir
+dirserverlist
+print
+count
+dirserverlist
+count
+print
+count
+dirserver
+server
+dirserver
+dirserverlist
+elementat
+server
+pserver
+hasdir
+prtrue
+nsok
+hasdir
+prfalse
+nsok
+nsresult
+diraddnewaddressbook
+prunichar
+dirname
+filename
+prbool
+migrating
+uri
+maxhits
+authdn
+directorytype
+dirtype
+dirserver
+pserver
+dirserver
+server
+dirserver
+prmalloc
+dirserver
+dirinitserverwithtype
+server
+dirtype
+dirserverlist
+dirgetdirservers
+dirserverlist
+print
+count
+dirserverlist
+count
+nsconvertucstoutf
+utfstr
+dirname
+server
+description
+tonewcstring
+utfstr
+server
+position
+count
+filename
+server
+filename
+nscrt
+strdup
+filename
+dirsetfilename
+server
+filename
+kpersonaladdressbook
+dirtype
+ldapdirectory
+server
+savepassword
+prtrue
+uri
+server
+uri
+nscrt
+strdup
+uri
+authdn
+server
+authdn
+nscrt
+strdup
+authdn
+maxhits
+server
+maxhits
+maxhits
+dirserverlist
+appendelement
+server
+migrating
+dirsaveprefsforoneserver
+server
+server
+prefname
+strcmp
+server
+filename
+kpersonaladdressbook
+server
+prefname
+nscrt
+strdup
+ldap
+servers
+pab
+strcmp
+server
+filename
+kcollectedaddressbook
+server
+prefname
+nscrt
+strdup
+ldap
+servers
+history
+leafname
+dirconvertdescriptiontoprefname
+server
+leafname
+server
+prefname
+prsmprintf
+prefldapservertreename
+leafname
+ifdef
+debugsspitzer
+printf
+don
+set
+the
+prefs
+they
+are
+already
+set
+since
+ab
+was
+migrated
+endif
+pserver
+server
+nsresult
+rv
+nsok
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+ppref
+nserrorfailure
+ppref
+savepreffile
+nsnull
+nsok
+nserrorfailure
+nsresult
+dirdecrementserverrefcount
+dirserver
+server
+nsassertion
+server
+nsnull
+server
+is
+server
+server
+refcount
+dirdeleteserver
+server
+nsresult
+dirincrementserverrefcount
+dirserver
+server
+nsassertion
+server
+nsnull
+server
+is
+server
+server
+refcount
+nsok
+nsresult
+dirinitserverwithtype
+dirserver
+server
+directorytype
+dirtype
+dirinitserver
+server
+server
+dirtype
+dirtype
+dirtype
+ldapdirectory
+server
+columnattributes
+nscrt
+strdup
+kdefaultldapcolumnheaders
+server
+isoffline
+prtrue
+server
+csid
+csutf
+server
+locale
+nsnull
+dirtype
+pabdirectory
+dirtype
+mapidirectory
+server
+columnattributes
+nscrt
+strdup
+kdefaultpabcolumnheaders
+server
+isoffline
+prfalse
+server
+csid
+csutf
+server
+locale
+nsnull
+nsok
+nsresult
+dirinitserver
+dirserver
+server
+nsassertion
+server
+nsnull
+server
+is
+server
+memset
+server
+dirserver
+server
+saveresults
+prtrue
+server
+efficientwildcards
+kdefaultefficientwildcards
+server
+port
+ldapport
+server
+maxhits
+kdefaultmaxhits
+server
+isoffline
+kdefaultisoffline
+server
+refcount
+server
+position
+kdefaultposition
+server
+csid
+csutf
+server
+locale
+nsnull
+server
+uri
+nsnull
+server
+palmcategoryid
+nsok
+dirdescriptioncode
+dirvalidatedirectorydescription
+nsvoidarray
+wholelist
+dirserver
+servertovalidate
+wholelist
+servertovalidate
+servertovalidate
+description
+print
+numitems
+wholelist
+count
+print
+numitems
+dirserver
+dirserver
+dirserverlist
+elementat
+servertovalidate
+description
+nscrt
+strcasecmp
+description
+servertovalidate
+description
+dirduplicatedescription
+dirvaliddescription
+dirattribute
+dircopyattribute
+dirattribute
+inattribute
+dirattribute
+outattribute
+dirattribute
+prmalloc
+dirattribute
+outattribute
+print
+count
+outattribute
+id
+inattribute
+id
+outattribute
+prettyname
+nscrt
+strdup
+inattribute
+prettyname
+inattribute
+attrnames
+count
+count
+outattribute
+attrnames
+prmalloc
+count
+outattribute
+attrnames
+print
+count
+outattribute
+attrnames
+nscrt
+strdup
+inattribute
+attrnames
+outattribute
+attrnames
+nsnull
+outattribute
+dirfilter
+dircopyfilter
+dirfilter
+infilter
+dirfilter
+outfilter
+dirfilter
+prmalloc
+dirfilter
+outfilter
+outfilter
+flags
+infilter
+flags
+outfilter
+nscrt
+strdup
+infilter
+outfilter
+nsresult
+dircopytokenlist
+inlist
+print
+incount
+outlist
+print
+outcount
+nsresult
+status
+nsok
+incount
+nsnull
+inlist
+outlist
+prmalloc
+incount
+outlist
+print
+incount
+outlist
+nscrt
+strdup
+inlist
+outcount
+incount
+status
+nserroroutofmemory
+status
+dirreplicationinfo
+dircopyreplicationinfo
+dirreplicationinfo
+ininfo
+dirreplicationinfo
+outinfo
+dirreplicationinfo
+prcalloc
+dirreplicationinfo
+outinfo
+outinfo
+lastchangenumber
+ininfo
+lastchangenumber
+ininfo
+description
+outinfo
+description
+nscrt
+strdup
+ininfo
+description
+ininfo
+filename
+outinfo
+filename
+nscrt
+strdup
+ininfo
+filename
+ininfo
+dataversion
+outinfo
+dataversion
+nscrt
+strdup
+ininfo
+dataversion
+ininfo
+syncurl
+outinfo
+syncurl
+nscrt
+strdup
+ininfo
+syncurl
+ininfo
+filter
+outinfo
+filter
+nscrt
+strdup
+ininfo
+filter
+dircopytokenlist
+ininfo
+excludedattributes
+ininfo
+excludedattributescount
+outinfo
+excludedattributes
+outinfo
+excludedattributescount
+outinfo
+nsresult
+dircopyserver
+dirserver
+in
+dirserver
+out
+nsresult
+err
+nsok
+in
+out
+dirserver
+prmalloc
+dirserver
+out
+memset
+out
+dirserver
+in
+prefname
+out
+prefname
+nscrt
+strdup
+in
+prefname
+out
+prefname
+err
+nserroroutofmemory
+in
+description
+out
+description
+nscrt
+strdup
+in
+description
+out
+description
+err
+nserroroutofmemory
+in
+servername
+out
+servername
+nscrt
+strdup
+in
+servername
+out
+servername
+err
+nserroroutofmemory
+in
+searchbase
+out
+searchbase
+nscrt
+strdup
+in
+searchbase
+out
+searchbase
+err
+nserroroutofmemory
+in
+filename
+out
+filename
+nscrt
+strdup
+in
+filename
+out
+filename
+err
+nserroroutofmemory
+in
+columnattributes
+out
+columnattributes
+nscrt
+strdup
+in
+columnattributes
+out
+columnattributes
+err
+nserroroutofmemory
+in
+locale
+out
+locale
+nscrt
+strdup
+in
+locale
+out
+locale
+err
+nserroroutofmemory
+out
+position
+in
+position
+out
+port
+in
+port
+out
+maxhits
+in
+maxhits
+out
+issecure
+in
+issecure
+out
+saveresults
+in
+saveresults
+out
+isoffline
+in
+isoffline
+out
+efficientwildcards
+in
+efficientwildcards
+out
+dirtype
+in
+dirtype
+out
+csid
+in
+csid
+out
+flags
+in
+flags
+out
+enableauth
+in
+enableauth
+out
+savepassword
+in
+savepassword
+in
+authdn
+out
+authdn
+nscrt
+strdup
+in
+authdn
+out
+authdn
+err
+nserroroutofmemory
+in
+password
+out
+password
+nscrt
+strdup
+in
+password
+out
+password
+err
+nserroroutofmemory
+in
+customattributes
+out
+customattributes
+nsvoidarray
+out
+customattributes
+nsvoidarray
+list
+in
+customattributes
+dirattribute
+attribute
+nsnull
+print
+count
+list
+count
+print
+count
+attribute
+dirattribute
+list
+elementat
+attribute
+dirattribute
+outattr
+dircopyattribute
+attribute
+outattr
+out
+customattributes
+appendelement
+outattr
+err
+nserroroutofmemory
+err
+nserroroutofmemory
+in
+customfilters
+out
+customfilters
+nsvoidarray
+out
+customfilters
+nsvoidarray
+list
+in
+customfilters
+dirfilter
+filter
+nsnull
+print
+count
+list
+count
+print
+count
+filter
+dirfilter
+list
+elementat
+filter
+dirfilter
+outfilter
+dircopyfilter
+filter
+outfilter
+out
+customfilters
+appendelement
+outfilter
+err
+nserroroutofmemory
+err
+nserroroutofmemory
+in
+autocompletefilter
+out
+autocompletefilter
+nscrt
+strdup
+in
+autocompletefilter
+out
+autocompletefilter
+err
+nserroroutofmemory
+in
+replinfo
+out
+replinfo
+dircopyreplicationinfo
+in
+replinfo
+in
+basicsearchattributescount
+print
+bsalength
+in
+basicsearchattributescount
+dirattributeid
+out
+basicsearchattributes
+dirattributeid
+prmalloc
+bsalength
+out
+basicsearchattributes
+memcpy
+out
+basicsearchattributes
+in
+basicsearchattributes
+bsalength
+out
+basicsearchattributescount
+in
+basicsearchattributescount
+dircopytokenlist
+in
+dnattributes
+in
+dnattributescount
+out
+dnattributes
+out
+dnattributescount
+dircopytokenlist
+in
+suppressedattributes
+in
+suppressedattributescount
+out
+suppressedattributes
+out
+suppressedattributescount
+dircopytokenlist
+in
+uriattributes
+in
+uriattributescount
+out
+uriattributes
+out
+uriattributescount
+in
+customdisplayurl
+out
+customdisplayurl
+nscrt
+strdup
+in
+customdisplayurl
+in
+searchpairlist
+out
+searchpairlist
+nscrt
+strdup
+in
+searchpairlist
+out
+refcount
+err
+nserroroutofmemory
+out
+nsnull
+prassert
+err
+nserrorfailure
+out
+nsnull
+err
+prbool
+dirsetserverposition
+nsvoidarray
+wholelist
+dirserver
+server
+print
+position
+nsresult
+rv
+nsok
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+ppref
+prfalse
+print
+count
+num
+prbool
+resort
+prfalse
+dirserver
+nsnull
+position
+dirposappend
+count
+wholelist
+count
+count
+dirserver
+wholelist
+elementat
+nsnull
+server
+prfalse
+count
+dirserver
+wholelist
+elementat
+count
+dirtestflag
+dirpositionlocked
+dirserver
+slast
+nsnull
+count
+dirserver
+wholelist
+elementat
+nsnull
+dirtestflag
+dirpositionlocked
+slast
+slast
+server
+position
+slast
+position
+server
+position
+resort
+prtrue
+server
+position
+position
+server
+position
+wholelist
+appendelement
+server
+wholelist
+dirserverlist
+dirsendnotification
+server
+dirnotifyadd
+idnone
+dirposdelete
+dirtestflag
+server
+dirundeletable
+prfalse
+server
+prefname
+dirclearprefbranch
+server
+prefname
+num
+wholelist
+indexof
+server
+num
+count
+wholelist
+count
+num
+count
+wholelist
+removeelementat
+num
+resort
+prtrue
+wholelist
+removeelement
+server
+wholelist
+dirserverlist
+dirsendnotification
+server
+dirnotifydelete
+idnone
+count
+wholelist
+count
+count
+dirserver
+wholelist
+elementat
+nsnull
+server
+nsnull
+server
+position
+position
+wholelist
+appendelement
+server
+resort
+prtrue
+wholelist
+dirserverlist
+dirsendnotification
+server
+dirnotifyadd
+idnone
+dirtestflag
+server
+dirpositionlocked
+prfalse
+server
+position
+position
+server
+position
+position
+wholelist
+removeelement
+server
+wholelist
+appendelement
+server
+resort
+prtrue
+dirsaveserverpreferences
+wholelist
+resort
+dirserver
+dirmatchserverpreftoserver
+nsvoidarray
+wholelist
+pref
+dirserver
+server
+print
+count
+wholelist
+count
+print
+count
+server
+dirserver
+wholelist
+elementat
+nsnull
+server
+prefname
+plstrstr
+pref
+server
+prefname
+pref
+pref
+plstrlen
+server
+prefname
+server
+nsnull
+prbool
+dirvalidateandaddnewserver
+nsvoidarray
+wholelist
+fullprefname
+prbool
+rc
+prfalse
+endname
+plstrchr
+fullprefname
+plstrlen
+prefldapservertreename
+endname
+prefname
+prmalloc
+endname
+fullprefname
+prefname
+print
+dirtype
+nsnull
+nsnull
+tempstring
+plstrncpyz
+prefname
+fullprefname
+endname
+fullprefname
+dirtype
+dirgetintpref
+prefname
+dirtype
+tempstring
+dirtype
+dirgetintpref
+prefname
+position
+tempstring
+dirgetstringpref
+prefname
+description
+tempstring
+nsnull
+nsnull
+dirtype
+pabdirectory
+dirgetstringpref
+prefname
+servername
+tempstring
+nsnull
+nsnull
+dirserver
+server
+dirserver
+prmalloc
+dirserver
+server
+dirinitserverwithtype
+server
+directorytype
+dirtype
+server
+prefname
+prefname
+dirgetprefsforoneserver
+server
+prfalse
+prfalse
+dirsetserverposition
+wholelist
+server
+server
+position
+rc
+prtrue
+prfreeif
+prfree
+prfree
+prefname
+rc
+print
+prcallback
+dirserverprefcallback
+prefname
+instdata
+nsresult
+rv
+nsok
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+ppref
+nserrorfailure
+dirprefid
+id
+diratomizeprefname
+prefname
+dirserver
+server
+dirmatchserverpreftoserver
+dirserverlist
+prefname
+server
+dirtestflag
+server
+dirsavingserver
+nsok
+id
+idservername
+id
+idsearchbase
+id
+idenableauth
+id
+idauthdn
+id
+idpassword
+dirclearflag
+server
+dirldaprootdseparsed
+id
+idposition
+print
+position
+ppref
+getintpref
+prefname
+position
+position
+server
+position
+server
+position
+position
+dirisserverdeleted
+server
+dirsetserverposition
+dirserverlist
+server
+dirposdelete
+dirsendnotification
+server
+dirnotifypropertychange
+idposition
+dircallbacklist
+nsnull
+dirgetprefsforoneserver
+server
+prtrue
+prfalse
+dirsendnotification
+server
+dirnotifypropertychange
+id
+id
+idposition
+id
+idtype
+id
+idservername
+id
+iddescription
+dirvalidateandaddnewserver
+dirserverlist
+prefname
+nsok
+prbool
+dirregisternotificationcallback
+dirnotificationfn
+fn
+pruint
+flags
+instdata
+dircallback
+cb
+cb
+dircallbacklist
+cb
+cb
+cb
+next
+cb
+fn
+fn
+cb
+flags
+flags
+prtrue
+cb
+dircallback
+prmalloc
+dircallback
+cb
+prfalse
+cb
+fn
+fn
+cb
+flags
+flags
+cb
+data
+instdata
+cb
+next
+dircallbacklist
+dircallbacklist
+cb
+prtrue
+prbool
+dirderegisternotificationcallback
+dirnotificationfn
+fn
+instdata
+dircallback
+cb
+cbprev
+nsnull
+cb
+dircallbacklist
+cb
+cb
+fn
+fn
+cb
+data
+instdata
+cb
+cb
+next
+cbprev
+cb
+cb
+nsnull
+prfalse
+cb
+dircallbacklist
+dircallbacklist
+cb
+next
+cbprev
+next
+cb
+next
+prfree
+cb
+prtrue
+prbool
+dirsendnotification
+dirserver
+server
+pruint
+flag
+dirprefid
+id
+prbool
+sent
+prfalse
+dircallback
+cb
+cbnext
+cb
+dircallbacklist
+cb
+cb
+cbnext
+cbnext
+cb
+next
+cb
+flags
+flag
+sent
+prtrue
+cb
+fn
+server
+flag
+id
+cb
+data
+sent
+dircopyserverstringpref
+dirserver
+server
+dirprefid
+prefid
+int
+csid
+pref
+server
+nsnull
+prefid
+idauthdn
+pref
+server
+authdn
+idpassword
+pref
+server
+password
+idsearchbase
+pref
+server
+searchbase
+prassert
+pref
+nsnull
+pref
+pref
+dirconvertfromservercharset
+server
+pref
+csid
+pref
+prbool
+dirsetserverstringpref
+dirserver
+server
+dirprefid
+prefid
+pref
+print
+csid
+prbool
+rc
+prtrue
+server
+pref
+prfalse
+pref
+dirconverttoservercharset
+server
+pref
+csid
+prefid
+idauthdn
+prfreeif
+server
+authdn
+server
+authdn
+pref
+idpassword
+prfreeif
+server
+password
+server
+password
+pref
+idsearchbase
+prfreeif
+server
+searchbase
+server
+searchbase
+pref
+prassert
+rc
+prfalse
+prfalse
+dirprefid
+diratomizeprefname
+prefname
+dirprefid
+rc
+idnone
+plstrstr
+prefname
+prefldapservertreename
+prefname
+prefname
+plstrchr
+prefname
+plstrlen
+prefldapservertreename
+prefname
+idnone
+prefname
+prefname
+prefname
+plstrstr
+prefname
+autocomplete
+prefname
+prefname
+rc
+idautocompleteenabled
+rc
+idautocompletefilter
+rc
+idautocompletenever
+plstrstr
+prefname
+auth
+prefname
+prefname
+rc
+idauthdn
+rc
+idenableauth
+rc
+idpassword
+rc
+idsavepassword
+plstrstr
+prefname
+attributes
+prefname
+rc
+idcustomattributes
+rc
+idbasicsearchattributes
+prefname
+rc
+idcsid
+rc
+idcsid
+rc
+idcolumnattributes
+rc
+idcustomdisplayurl
+prefname
+rc
+iddescription
+rc
+idtype
+prefname
+rc
+idefficientwildcards
+plstrstr
+prefname
+filter
+prefname
+rc
+idcustomfilters
+rc
+idfilename
+plstrstr
+prefname
+html
+prefname
+prefname
+rc
+iddnattributes
+rc
+idsuppressedattributes
+rc
+iduriattributes
+prefname
+rc
+idisoffline
+rc
+idissecure
+rc
+idlocale
+rc
+idmaxhits
+prefname
+prefname
+rc
+idport
+rc
+idposition
+plstrstr
+prefname
+replication
+prefname
+prefname
+prefname
+rc
+idrepldataversion
+rc
+idrepldescription
+prefname
+rc
+idreplenabled
+rc
+idreplexcludedattributes
+prefname
+rc
+idreplfilename
+rc
+idreplfilter
+rc
+idrepllastchangenumber
+rc
+idreplnever
+rc
+idreplsyncurl
+prefname
+rc
+idsaveresults
+prefname
+prefname
+rc
+idsearchbase
+rc
+idlastsearchstring
+rc
+idservername
+rc
+iduri
+rc
+idvlvdisabled
+prefname
+rc
+idpalmcategory
+rc
+idpalmsynctimestamp
+prassert
+rc
+idnone
+rc
+prbool
+dirareldapserverssame
+dirserver
+first
+dirserver
+second
+prbool
+strict
+prassert
+first
+servername
+second
+servername
+first
+servername
+second
+servername
+nscrt
+strcasecmp
+first
+servername
+second
+servername
+first
+port
+second
+port
+strict
+first
+searchbase
+nsnull
+second
+searchbase
+nsnull
+prtrue
+first
+searchbase
+second
+searchbase
+nscrt
+strcasecmp
+first
+searchbase
+second
+searchbase
+prtrue
+prfalse
+prbool
+dirareserverssame
+dirserver
+first
+dirserver
+second
+prbool
+strict
+first
+second
+first
+dirtype
+pabdirectory
+second
+dirtype
+pabdirectory
+first
+isoffline
+prfalse
+second
+isoffline
+prfalse
+prassert
+first
+filename
+second
+filename
+first
+filename
+second
+filename
+nscrt
+strcasecmp
+first
+filename
+second
+filename
+prtrue
+prfalse
+dirareldapserverssame
+first
+second
+strict
+first
+dirtype
+second
+dirtype
+dirareldapserverssame
+first
+second
+strict
+prfalse
+prbool
+dirareserverssame
+dirserver
+first
+dirserver
+second
+dirareserverssame
+first
+second
+prtrue
+dirserver
+dirlookupserver
+servername
+print
+port
+searchbase
+print
+dirserver
+server
+servername
+searchbase
+dirserverlist
+nsnull
+dirserverlist
+count
+server
+dirserver
+dirserverlist
+elementat
+server
+port
+port
+server
+servername
+nscrt
+strcasecmp
+server
+servername
+servername
+server
+searchbase
+nscrt
+strcasecmp
+server
+searchbase
+searchbase
+server
+nsnull
+prbool
+dirisserverdeleted
+dirserver
+server
+server
+server
+position
+prtrue
+prfalse
+dirdeletetokenlist
+tokenlist
+print
+tokenlistcount
+print
+tokenidx
+tokenidx
+tokenidx
+tokenlistcount
+tokenidx
+prfree
+tokenlist
+tokenidx
+prfree
+tokenlist
+nsresult
+dirdeletefilter
+dirfilter
+filter
+filter
+prfree
+filter
+prfree
+filter
+nsok
+nsresult
+dirdeleteattribute
+dirattribute
+attribute
+print
+attribute
+prettyname
+prfree
+attribute
+prettyname
+attribute
+attrnames
+attribute
+attrnames
+prfree
+attribute
+attrnames
+prfree
+attribute
+attrnames
+prfree
+attribute
+nsok
+dirdeletereplicationinfo
+dirserver
+server
+dirreplicationinfo
+info
+nsnull
+server
+info
+server
+replinfo
+nsnull
+dirdeletetokenlist
+info
+excludedattributes
+info
+excludedattributescount
+prfreeif
+info
+description
+prfreeif
+info
+filename
+prfreeif
+info
+dataversion
+prfreeif
+info
+syncurl
+prfreeif
+info
+filter
+prfree
+info
+nsresult
+dirdeleteservercontents
+dirserver
+server
+server
+print
+ifdef
+xpfileremove
+dirtestflag
+server
+dirclearserver
+server
+filename
+xpfileremove
+server
+filename
+xpaddrbooknew
+server
+replinfo
+server
+replinfo
+filename
+xpfileremove
+server
+replinfo
+filename
+xpaddrbooknew
+endif
+prfreeif
+server
+prefname
+prfreeif
+server
+description
+prfreeif
+server
+servername
+prfreeif
+server
+searchbase
+prfreeif
+server
+filename
+prfreeif
+server
+lastsearchstring
+prfreeif
+server
+tokenseps
+prfreeif
+server
+authdn
+prfreeif
+server
+password
+prfreeif
+server
+columnattributes
+prfreeif
+server
+locale
+prfreeif
+server
+uri
+server
+customfilters
+print
+count
+server
+customfilters
+count
+count
+dirdeletefilter
+dirfilter
+server
+customfilters
+elementat
+server
+customfilters
+prfreeif
+server
+autocompletefilter
+server
+customattributes
+nsvoidarray
+list
+server
+customattributes
+dirattribute
+walkattrstruct
+nsnull
+print
+count
+list
+count
+count
+walkattrstruct
+dirattribute
+list
+elementat
+walkattrstruct
+nsnull
+dirdeleteattribute
+walkattrstruct
+server
+customattributes
+server
+uriattributes
+dirdeletetokenlist
+server
+uriattributes
+server
+uriattributescount
+server
+suppressedattributes
+dirdeletetokenlist
+server
+suppressedattributes
+server
+suppressedattributescount
+server
+dnattributes
+dirdeletetokenlist
+server
+dnattributes
+server
+dnattributescount
+prfreeif
+server
+basicsearchattributes
+server
+replinfo
+dirdeletereplicationinfo
+server
+prfreeif
+server
+customdisplayurl
+prfreeif
+server
+searchpairlist
+nsok
+nsresult
+dirdeleteserver
+dirserver
+server
+server
+dirdeleteservercontents
+server
+prfree
+server
+nsok
+nsresult
+dirdeleteserverfromlist
+dirserver
+server
+server
+nserrornullpointer
+nsresult
+rv
+nsok
+nsfilespec
+dbpath
+nsnull
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+rv
+nssucceeded
+rv
+absession
+getuserprofiledirectory
+dbpath
+dbpath
+strcmp
+server
+filename
+kpersonaladdressbook
+strcmp
+server
+filename
+kcollectedaddressbook
+nscomptr
+nsiaddrdatabase
+database
+dbpath
+server
+filename
+nscomptr
+nsiaddrdatabase
+addrdbfactory
+dogetservice
+nsaddrdatabasecontractid
+rv
+nssucceeded
+rv
+addrdbfactory
+rv
+addrdbfactory
+open
+dbpath
+prfalse
+getteraddrefs
+database
+prtrue
+database
+database
+forceclosed
+dbpath
+delete
+prfalse
+dbpath
+nsvoidarray
+dirlist
+dirgetdirectories
+dirsetserverposition
+dirlist
+server
+dirposdelete
+dirdeleteserver
+server
+rv
+nsok
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+ppref
+nserrorfailure
+ppref
+savepreffile
+nsnull
+nsok
+nserrornullpointer
+nsresult
+dirdeleteserverlist
+nsvoidarray
+wholelist
+dirserver
+server
+nsnull
+print
+count
+wholelist
+count
+print
+count
+server
+dirserver
+wholelist
+elementat
+server
+nsnull
+dirdeleteserver
+server
+wholelist
+nsok
+nsresult
+dircleanupserverpreferences
+nsvoidarray
+deletedlist
+prassert
+prfalse
+nsok
+define
+dirsubsetmatch
+server
+flags
+flags
+dirsubsetpaball
+pabdirectory
+server
+dirtype
+flags
+dirsubsethtmlall
+htmldirectory
+server
+dirtype
+flags
+dirsubsetldapall
+ldapdirectory
+server
+dirtype
+flags
+dirsubsetldapautocomplete
+ldapdirectory
+server
+dirtype
+dirtestflag
+dirautocompletenever
+flags
+dirsubsetldapreplicate
+ldapdirectory
+server
+dirtype
+dirtestflag
+dirreplicatenever
+nsresult
+dirgetdirserversubset
+nsvoidarray
+wholelist
+nsvoidarray
+sublist
+pruint
+flags
+wholelist
+sublist
+flags
+print
+print
+numitems
+wholelist
+count
+numitems
+dirserver
+dirserver
+wholelist
+elementat
+dirsubsetmatch
+flags
+sublist
+appendelement
+nsok
+nserrorfailure
+print
+dirgetdirserversubsetcount
+nsvoidarray
+wholelist
+pruint
+flags
+print
+count
+wholelist
+flags
+print
+print
+numitems
+wholelist
+count
+numitems
+dirserver
+dirserver
+wholelist
+elementat
+dirsubsetmatch
+flags
+count
+count
+nsresult
+dirgetcomposenamecompletionaddressbook
+nsvoidarray
+wholelist
+dirserver
+cab
+prassert
+prfalse
+nserrorfailure
+nsresult
+dirgetldapservers
+nsvoidarray
+wholelist
+nsvoidarray
+sublist
+dirgetdirserversubset
+wholelist
+sublist
+dirsubsetldapall
+nsresult
+dirgetpersonaladdressbook
+nsvoidarray
+wholelist
+dirserver
+pab
+wholelist
+pab
+print
+count
+wholelist
+count
+print
+pab
+nsnull
+count
+dirserver
+server
+dirserver
+wholelist
+elementat
+pabdirectory
+server
+dirtype
+prfalse
+server
+isoffline
+server
+servername
+nsnull
+server
+servername
+pab
+server
+nsok
+nserrorfailure
+ifndef
+mozaddrstandalone
+nsquicksort
+prstaticcallback
+compareprefarraymembers
+aelement
+aelement
+adata
+element
+nsstaticcast
+aelement
+element
+nsstaticcast
+aelement
+pruint
+offset
+pruint
+adata
+strcmp
+element
+offset
+element
+offset
+nsresult
+dirgetchildlist
+nsaflatcstring
+abranch
+pruint
+acount
+achildlist
+pruint
+branchlen
+abranch
+length
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+prefbranch
+nserrorfailure
+nsresult
+rv
+prefbranch
+getchildlist
+abranch
+get
+acount
+achildlist
+nsfailed
+rv
+rv
+pruint
+acount
+endtoken
+strchr
+achildlist
+branchlen
+endtoken
+endtoken
+acount
+nsquicksort
+achildlist
+acount
+compareprefarraymembers
+branchlen
+pruint
+prev
+acount
+pruint
+cur
+prev
+compareprefarraymembers
+achildlist
+cur
+achildlist
+prev
+branchlen
+nsmemory
+free
+achildlist
+cur
+memmove
+achildlist
+cur
+achildlist
+prev
+acount
+prev
+acount
+prev
+cur
+cur
+nsok
+dirgetstringpref
+prefroot
+prefleaf
+scratch
+defaultvalue
+nsresult
+rv
+nsok
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+ppref
+nsnull
+value
+nsnull
+plstrcpy
+scratch
+prefroot
+plstrcat
+scratch
+plstrcat
+scratch
+prefleaf
+prefnoerror
+ppref
+copycharpref
+scratch
+value
+plstrcmp
+value
+prfreeif
+value
+value
+defaultvalue
+nscrt
+strdup
+defaultvalue
+nsnull
+value
+value
+prfreeif
+value
+ppref
+copydefaultcharpref
+scratch
+value
+prfreeif
+value
+value
+defaultvalue
+nscrt
+strdup
+defaultvalue
+nsnull
+value
+dirgetlocalizedstringpref
+prefroot
+prefleaf
+scratch
+defaultvalue
+nsresult
+rv
+nsok
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+ppref
+nsnull
+plstrcpy
+scratch
+prefroot
+plstrcat
+scratch
+plstrcat
+scratch
+prefleaf
+nsxpidlstring
+wvalue
+rv
+ppref
+getlocalizedunicharpref
+scratch
+gettercopies
+wvalue
+value
+nsnull
+prunichar
+wvalue
+nsconvertucstoutf
+utfstr
+wvalue
+get
+value
+tonewcstring
+utfstr
+value
+defaultvalue
+nscrt
+strdup
+defaultvalue
+nsnull
+value
+print
+dirgetintpref
+prefroot
+prefleaf
+scratch
+print
+defaultvalue
+nsresult
+rv
+nsok
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+ppref
+defaultvalue
+print
+value
+plstrcpy
+scratch
+prefroot
+plstrcat
+scratch
+plstrcat
+scratch
+prefleaf
+prefnoerror
+ppref
+getintpref
+scratch
+value
+value
+defaultvalue
+value
+prbool
+dirgetboolpref
+prefroot
+prefleaf
+scratch
+prbool
+defaultvalue
+nsresult
+rv
+nsok
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+ppref
+defaultvalue
+prbool
+value
+plstrcpy
+scratch
+prefroot
+plstrcat
+scratch
+plstrcat
+scratch
+prefleaf
+prefnoerror
+ppref
+getboolpref
+scratch
+value
+value
+defaultvalue
+value
+nsresult
+dirattributenametoid
+dirserver
+server
+attrname
+dirattributeid
+id
+nsresult
+status
+nsok
+attrname
+nscrt
+strcasecmp
+attrname
+auth
+id
+auth
+status
+nserrorfailure
+nscrt
+strcasecmp
+attrname
+businesscategory
+id
+businesscategory
+status
+nserrorfailure
+nscrt
+strcasecmp
+attrname
+cn
+id
+cn
+nscrt
+strcasecmp
+attrname
+carlicense
+id
+carlicense
+nscrt
+strncasecmp
+attrname
+custom
+attrname
+id
+custom
+id
+custom
+id
+custom
+id
+custom
+id
+custom
+status
+nserrorfailure
+status
+nserrorfailure
+nscrt
+strcasecmp
+attrname
+departmentnumber
+id
+departmentnumber
+nscrt
+strcasecmp
+attrname
+description
+id
+description
+status
+nserrorfailure
+nscrt
+strcasecmp
+attrname
+employeetype
+id
+employeetype
+status
+nserrorfailure
+nscrt
+strcasecmp
+attrname
+facsimiletelephonenumber
+id
+facsimiletelephonenumber
+status
+nserrorfailure
+nscrt
+strcasecmp
+attrname
+givenname
+id
+givenname
+status
+nserrorfailure
+nscrt
+strcasecmp
+attrname
+homephone
+id
+homephone
+status
+nserrorfailure
+nscrt
+strcasecmp
+attrname
+id
+status
+nserrorfailure
+nscrt
+strcasecmp
+attrname
+mail
+id
+mail
+nscrt
+strcasecmp
+attrname
+manager
+id
+manager
+nscrt
+strcasecmp
+attrname
+mobiletelephonenumber
+id
+mobiletelephonenumber
+status
+nserrorfailure
+nscrt
+strcasecmp
+attrname
+nickname
+id
+nickname
+status
+nserrorfailure
+nscrt
+strcasecmp
+attrname
+id
+nscrt
+strcasecmp
+attrname
+ou
+id
+ou
+nscrt
+strcasecmp
+attrname
+objectclass
+id
+objectclass
+status
+nserrorfailure
+nscrt
+strcasecmp
+attrname
+pager
+id
+pager
+nscrt
+strcasecmp
+attrname
+postalcode
+id
+postalcode
+nscrt
+strcasecmp
+attrname
+postaladdress
+id
+postaladdress
+status
+nserrorfailure
+nscrt
+strcasecmp
+attrname
+street
+id
+street
+nscrt
+strcasecmp
+attrname
+sn
+id
+sn
+nscrt
+strcasecmp
+attrname
+secretary
+id
+secretary
+status
+nserrorfailure
+nscrt
+strcasecmp
+attrname
+telephonenumber
+id
+telephonenumber
+nscrt
+strcasecmp
+attrname
+title
+id
+title
+status
+nserrorfailure
+status
+nserrorfailure
+status
+nsresult
+diraddcustomattribute
+dirserver
+server
+attrname
+jsattr
+nsresult
+status
+nsok
+jscompleteattr
+nsnull
+jsattrfortokenizing
+jsattr
+dirattributeid
+id
+status
+dirattributenametoid
+server
+attrname
+id
+nssucceeded
+status
+plstrchr
+jsattr
+defaultprettyname
+dirgetattributename
+server
+id
+defaultprettyname
+jscompleteattr
+prsmprintf
+defaultprettyname
+jsattr
+jscompleteattr
+jsattrfortokenizing
+jscompleteattr
+status
+nserroroutofmemory
+nssucceeded
+status
+scratchattr
+nscrt
+strdup
+jsattrfortokenizing
+dirattribute
+attrstruct
+dirattribute
+prmalloc
+dirattribute
+server
+customattributes
+server
+customattributes
+nsvoidarray
+attrstruct
+server
+customattributes
+scratchattr
+attrtoken
+nsnull
+pruint
+attrcount
+memset
+attrstruct
+dirattribute
+attrstruct
+id
+id
+attrstruct
+prettyname
+nscrt
+strdup
+strtok
+scratchattr
+attrtoken
+strtok
+nsnull
+nsnull
+attrcount
+plstrcpy
+scratchattr
+jsattrfortokenizing
+strtok
+scratchattr
+attrstruct
+attrnames
+prmalloc
+attrcount
+attrstruct
+attrnames
+print
+attrtoken
+strtok
+nsnull
+nsnull
+attrstruct
+attrnames
+nscrt
+strdup
+attrtoken
+attrstruct
+attrnames
+nsnull
+nssucceeded
+status
+server
+customattributes
+appendelement
+attrstruct
+dirdeleteattribute
+attrstruct
+prfree
+scratchattr
+status
+nserroroutofmemory
+jscompleteattr
+prsmprintffree
+jscompleteattr
+status
+print
+dirgetnumattributeidsforcolumns
+dirserver
+server
+print
+count
+buffer
+nsnull
+marker
+nsnull
+server
+server
+columnattributes
+buffer
+nscrt
+strdup
+server
+columnattributes
+buffer
+marker
+buffer
+abpstrtokr
+buffer
+count
+prfreeif
+marker
+count
+nsresult
+dirgetattributeidsforcolumns
+dirserver
+server
+dirattributeid
+ids
+print
+numids
+dirattributeid
+idarray
+nsnull
+nsresult
+status
+nsok
+print
+numadded
+print
+indx
+print
+numitems
+idname
+nsnull
+marker
+nsnull
+columnids
+nsnull
+server
+numids
+ids
+server
+columnattributes
+columnids
+nscrt
+strdup
+server
+columnattributes
+numitems
+dirgetnumattributeidsforcolumns
+server
+columnids
+numitems
+marker
+columnids
+idarray
+dirattributeid
+prmalloc
+dirattributeid
+numitems
+idarray
+indx
+indx
+numitems
+indx
+idname
+abpstrtokr
+marker
+idname
+status
+dirattributenametoid
+server
+idname
+idarray
+numadded
+nssucceeded
+status
+numadded
+status
+nserroroutofmemory
+prfreeif
+columnids
+ids
+ids
+idarray
+numids
+numids
+numadded
+status
+nsresult
+dircreatetokenlistfromwholepref
+pref
+outlist
+print
+outcount
+nsresult
+result
+nsok
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+result
+nsfailed
+result
+result
+commaseparatedlist
+nsnull
+prefnoerror
+ppref
+copycharpref
+pref
+commaseparatedlist
+commaseparatedlist
+tmplist
+commaseparatedlist
+outcount
+tmplist
+tmplist
+outcount
+outlist
+prmalloc
+outcount
+outlist
+print
+token
+strtok
+commaseparatedlist
+outcount
+outlist
+nscrt
+strdup
+token
+token
+strtok
+nsnull
+result
+nserroroutofmemory
+prfree
+commaseparatedlist
+result
+nserrorfailure
+result
+nsresult
+dircreatetokenlistfrompref
+prefbase
+prefleaf
+outlist
+print
+outcount
+nscautostring
+prefname
+prefbase
+prefname
+append
+prefname
+append
+prefleaf
+dircreatetokenlistfromwholepref
+prefname
+get
+outlist
+outcount
+nsresult
+dirconverttokenlisttoidlist
+dirserver
+server
+tokenlist
+print
+tokencount
+dirattributeid
+outlist
+outlist
+dirattributeid
+prmalloc
+dirattributeid
+tokencount
+outlist
+print
+tokencount
+dirattributenametoid
+server
+tokenlist
+outlist
+nserroroutofmemory
+nsok
+dirgetreplicationinfo
+prefstring
+dirserver
+server
+scratch
+replprefname
+prassert
+server
+replinfo
+nsnull
+server
+replinfo
+dirreplicationinfo
+prcalloc
+dirreplicationinfo
+server
+replinfo
+replprefname
+prbool
+prefbool
+plstrcpy
+replprefname
+prefstring
+plstrcat
+replprefname
+replication
+prefbool
+dirgetboolpref
+replprefname
+never
+scratch
+kdefaultreplicatenever
+dirforceflag
+server
+dirreplicatenever
+prefbool
+prefbool
+dirgetboolpref
+replprefname
+enabled
+scratch
+kdefaultreplicaenabled
+dirforceflag
+server
+dirreplicationenabled
+prefbool
+server
+replinfo
+description
+dirgetstringpref
+replprefname
+description
+scratch
+kdefaultreplicadescription
+server
+replinfo
+syncurl
+dirgetstringpref
+replprefname
+syncurl
+scratch
+nsnull
+server
+replinfo
+filter
+dirgetstringpref
+replprefname
+filter
+scratch
+kdefaultreplicafilter
+dircreatetokenlistfrompref
+replprefname
+excludedattributes
+server
+replinfo
+excludedattributes
+server
+replinfo
+excludedattributescount
+server
+replinfo
+filename
+dirgetstringpref
+replprefname
+filename
+scratch
+kdefaultreplicafilename
+server
+replinfo
+dataversion
+dirgetstringpref
+replprefname
+dataversion
+scratch
+kdefaultreplicadataversion
+server
+replinfo
+filename
+server
+replinfo
+dataversion
+server
+replinfo
+lastchangenumber
+dirgetintpref
+replprefname
+lastchangenumber
+scratch
+kdefaultreplicachangenumber
+nsresult
+dirgetcustomattributeprefs
+prefstring
+dirserver
+server
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+ppref
+nserrorfailure
+tokenlist
+nsnull
+childlist
+nsnull
+nscautostring
+branch
+prefstring
+branch
+append
+attributes
+pruint
+branchlen
+branch
+length
+pruint
+prefcount
+nsresult
+rv
+dirgetchildlist
+branch
+prefcount
+childlist
+nssucceeded
+rv
+pruint
+prefcount
+jsvalue
+nsnull
+rv
+ppref
+copycharpref
+childlist
+jsvalue
+nssucceeded
+rv
+jsvalue
+jsvalue
+attrname
+childlist
+branchlen
+diraddcustomattribute
+server
+attrname
+jsvalue
+prfreeif
+jsvalue
+nsfreexpcomallocatedpointerarray
+prefcount
+childlist
+dircreatetokenlistfrompref
+prefstring
+basicsearchattributes
+tokenlist
+server
+basicsearchattributescount
+dirconverttokenlisttoidlist
+server
+tokenlist
+server
+basicsearchattributescount
+server
+basicsearchattributes
+dirdeletetokenlist
+tokenlist
+server
+basicsearchattributescount
+dircreatetokenlistfrompref
+prefstring
+html
+dnattributes
+server
+dnattributes
+server
+dnattributescount
+dircreatetokenlistfrompref
+prefstring
+html
+excludedattributes
+server
+suppressedattributes
+server
+suppressedattributescount
+dircreatetokenlistfrompref
+prefstring
+html
+uriattributes
+server
+uriattributes
+server
+uriattributescount
+nsok
+nsresult
+dirgetcustomfilterprefs
+prefstring
+dirserver
+server
+scratch
+localscratch
+prmalloc
+localscratch
+nserroroutofmemory
+nsresult
+rv
+nsok
+prbool
+keepgoing
+prtrue
+print
+filternum
+server
+tokenseps
+dirgetstringpref
+prefstring
+wordseparators
+localscratch
+kdefaulttokenseps
+childlist
+nsnull
+prsnprintf
+scratch
+filter
+prefstring
+filternum
+nscautostring
+branch
+scratch
+branch
+append
+pruint
+prefcount
+rv
+dirgetchildlist
+branch
+prefcount
+childlist
+nssucceeded
+rv
+prefcount
+dirfilter
+filter
+dirfilter
+prmalloc
+dirfilter
+filter
+prbool
+tempbool
+memset
+filter
+dirfilter
+filter
+dirgetstringpref
+scratch
+localscratch
+server
+efficientwildcards
+kdefaultfilter
+kdefaultefficientfilter
+tempbool
+dirgetboolpref
+scratch
+repeatfilterforwords
+localscratch
+kdefaultrepeatfilterfortokens
+tempbool
+filter
+flags
+dirfrepeatfilterfortokens
+tempbool
+dirgetboolpref
+scratch
+substitutestarsforspaces
+localscratch
+kdefaultsubststarsforspaces
+tempbool
+filter
+flags
+dirfsubststarsforspaces
+server
+customfilters
+server
+customfilters
+nsvoidarray
+server
+customfilters
+server
+customfilters
+appendelement
+filter
+rv
+nserroroutofmemory
+rv
+nserroroutofmemory
+filternum
+keepgoing
+prfalse
+nsfreexpcomallocatedpointerarray
+prefcount
+childlist
+keepgoing
+prfalse
+keepgoing
+nssucceeded
+rv
+prfree
+localscratch
+rv
+dirconvertserverfilename
+dirserver
+pserver
+leafname
+pserver
+filename
+newleafname
+nsnull
+defined
+xpwin
+defined
+xpos
+ifdef
+xpfileisfullpath
+xpfileisfullpath
+leafname
+newleafname
+xpstrrchr
+leafname
+endif
+newleafname
+strrchr
+leafname
+endif
+pserver
+filename
+newleafname
+nscrt
+strdup
+newleafname
+nscrt
+strdup
+leafname
+leafname
+prfree
+leafname
+dirsetfilename
+filename
+defaultname
+nsresult
+rv
+nsok
+nsfilespec
+dbpath
+nsnull
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+rv
+nssucceeded
+rv
+absession
+getuserprofiledirectory
+dbpath
+dbpath
+dbpath
+defaultname
+dbpath
+makeunique
+defaultname
+file
+nsnull
+file
+dbpath
+getleafname
+filename
+nscrt
+strdup
+file
+file
+nscrt
+free
+file
+dbpath
+dirconvertdescriptiontoprefname
+dirserver
+server
+define
+maxprefnamesize
+filename
+nsnull
+filenamebuf
+maxprefnamesize
+print
+srcindex
+print
+destindex
+print
+numsrcbytes
+descr
+nsnull
+server
+server
+description
+descr
+server
+description
+numsrcbytes
+plstrlen
+descr
+srcindex
+numsrcbytes
+destindex
+maxprefnamesize
+nscrt
+isasciidigit
+descr
+srcindex
+nscrt
+isasciialpha
+descr
+srcindex
+filenamebuf
+destindex
+descr
+srcindex
+destindex
+srcindex
+filenamebuf
+destindex
+destindex
+filename
+nscrt
+strdup
+filenamebuf
+filename
+dirsetserverfilename
+dirserver
+server
+leafname
+tempname
+nsnull
+prefname
+nsnull
+pruint
+numheaderbytes
+server
+server
+filename
+server
+filename
+prfreeif
+server
+filename
+server
+prefname
+server
+prefname
+server
+prefname
+dircreateserverprefname
+server
+nsnull
+server
+position
+server
+dirtype
+pabdirectory
+server
+filename
+nscrt
+strdup
+kpersonaladdressbook
+prefname
+server
+prefname
+prefname
+prefname
+numheaderbytes
+plstrlen
+prefldapservertreename
+plstrlen
+prefname
+numheaderbytes
+tempname
+nscrt
+strdup
+prefname
+numheaderbytes
+tempname
+server
+filename
+prsmprintf
+tempname
+kabfilenamecurrentsuffix
+prfree
+tempname
+server
+filename
+server
+filename
+server
+dirtype
+ldapdirectory
+dirsetfilename
+server
+filename
+kmainldapaddressbook
+dirsetfilename
+server
+filename
+kpersonaladdressbook
+dircreateserverprefname
+dirserver
+server
+name
+leafname
+nsnull
+prefname
+nsnull
+prbool
+isunique
+prfalse
+name
+leafname
+nscrt
+strdup
+name
+leafname
+dirconvertdescriptiontoprefname
+server
+leafname
+print
+uniqueidcnt
+children
+nsnull
+prefname
+prsmprintf
+prefldapservertreename
+leafname
+isunique
+prfalse
+pruint
+prefcount
+nsresult
+rv
+dirgetchildlist
+nsliteralcstring
+prefldapservertreename
+prefcount
+children
+nssucceeded
+rv
+isunique
+prefname
+isunique
+prtrue
+pruint
+prefcount
+isunique
+nscrt
+strcasecmp
+children
+prefname
+isunique
+prfalse
+isunique
+prsmprintffree
+prefname
+prefname
+prsmprintf
+prefldapservertreename
+leafname
+uniqueidcnt
+nsfreexpcomallocatedpointerarray
+prefcount
+children
+prfree
+leafname
+prefname
+prsmprintf
+prefldapservertreename
+userdirectory
+diruserid
+prefname
+dirgetprefsforoneserver
+dirserver
+server
+prbool
+reinitialize
+prbool
+oldstyle
+nsresult
+rv
+nsok
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+ppref
+prbool
+prefbool
+prefstring
+server
+prefname
+tempstring
+csidstring
+nsnull
+prbool
+forceprefsave
+prfalse
+reinitialize
+pruint
+oldrefcount
+server
+refcount
+server
+prefname
+nsnull
+dirdeleteservercontents
+server
+dirinitserver
+server
+server
+prefname
+prefstring
+server
+refcount
+oldrefcount
+server
+position
+dirgetintpref
+prefstring
+position
+tempstring
+kdefaultposition
+prbool
+bislocked
+ppref
+prefislocked
+tempstring
+bislocked
+dirforceflag
+server
+dirundeletable
+dirpositionlocked
+bislocked
+server
+issecure
+dirgetboolpref
+prefstring
+issecure
+tempstring
+prfalse
+server
+saveresults
+dirgetboolpref
+prefstring
+saveresults
+tempstring
+prtrue
+server
+efficientwildcards
+dirgetboolpref
+prefstring
+efficientwildcards
+tempstring
+prtrue
+server
+port
+dirgetintpref
+prefstring
+port
+tempstring
+server
+issecure
+ldapsport
+ldapport
+server
+port
+server
+port
+server
+issecure
+ldapsport
+ldapport
+server
+maxhits
+dirgetintpref
+prefstring
+maxhits
+tempstring
+kdefaultmaxhits
+plstrcmp
+prefstring
+ldap
+servers
+pab
+plstrcmp
+prefstring
+ldap
+servers
+history
+server
+description
+dirgetlocalizedstringpref
+prefstring
+description
+tempstring
+server
+description
+dirgetstringpref
+prefstring
+description
+tempstring
+server
+servername
+dirgetstringpref
+prefstring
+servername
+tempstring
+server
+searchbase
+dirgetstringpref
+prefstring
+searchbase
+tempstring
+server
+isoffline
+dirgetboolpref
+prefstring
+isoffline
+tempstring
+kdefaultisoffline
+server
+dirtype
+directorytype
+dirgetintpref
+prefstring
+dirtype
+tempstring
+ldapdirectory
+server
+dirtype
+pabdirectory
+server
+servername
+server
+servername
+server
+isoffline
+prfalse
+server
+saveresults
+prtrue
+server
+dirtype
+pabdirectory
+server
+columnattributes
+dirgetstringpref
+prefstring
+columns
+tempstring
+kdefaultpabcolumnheaders
+server
+columnattributes
+dirgetstringpref
+prefstring
+columns
+tempstring
+kdefaultldapcolumnheaders
+server
+filename
+dirgetstringpref
+prefstring
+filename
+tempstring
+server
+filename
+server
+filename
+oldstyle
+dirsetserverfilename
+server
+server
+servername
+server
+filename
+server
+filename
+dirconvertserverfilename
+server
+nscstring
+kmdbdirectoryroot
+append
+server
+filename
+server
+uri
+dirgetstringpref
+prefstring
+uri
+tempstring
+get
+server
+lastsearchstring
+dirgetstringpref
+prefstring
+searchstring
+tempstring
+dirgetcustomattributeprefs
+prefstring
+server
+dirgetcustomfilterprefs
+prefstring
+server
+tempstring
+dirgetreplicationinfo
+prefstring
+server
+tempstring
+server
+palmcategoryid
+dirgetintpref
+prefstring
+palmcategoryid
+tempstring
+server
+palmsynctimestamp
+dirgetintpref
+prefstring
+palmsynctimestamp
+tempstring
+server
+enableauth
+dirgetboolpref
+prefstring
+auth
+enabled
+tempstring
+kdefaultenableauth
+server
+authdn
+dirgetstringpref
+prefstring
+auth
+dn
+tempstring
+nsnull
+server
+savepassword
+dirgetboolpref
+prefstring
+auth
+savepassword
+tempstring
+kdefaultsavepassword
+server
+savepassword
+server
+password
+dirgetstringpref
+prefstring
+auth
+password
+tempstring
+prefbool
+dirgetboolpref
+prefstring
+autocomplete
+enabled
+tempstring
+kdefaultautocompleteenabled
+dirforceflag
+server
+dirautocompleteenabled
+prefbool
+prefbool
+dirgetboolpref
+prefstring
+autocomplete
+never
+tempstring
+kdefaultautocompletenever
+dirforceflag
+server
+dirautocompletenever
+prefbool
+server
+autocompletefilter
+dirgetstringpref
+prefstring
+autocomplete
+filter
+tempstring
+nsnull
+csidstring
+dirgetstringpref
+prefstring
+csid
+tempstring
+nsnull
+csidstring
+server
+csid
+csutf
+prfree
+csidstring
+server
+dirtype
+pabdirectory
+server
+csid
+print
+dirgetintpref
+prefstring
+charset
+tempstring
+kdefaultpabcsid
+server
+csid
+print
+dirgetintpref
+prefstring
+charset
+tempstring
+kdefaultldapcsid
+forceprefsave
+prtrue
+server
+csid
+csdefault
+server
+csid
+csunknown
+server
+csid
+csutf
+server
+locale
+dirgetstringpref
+prefstring
+locale
+tempstring
+nsnull
+prefbool
+dirgetboolpref
+prefstring
+vlvdisabled
+tempstring
+kdefaultvlvdisabled
+dirforceflag
+server
+dirldapvlvdisabled
+dirldaprootdseparsed
+prefbool
+server
+customdisplayurl
+dirgetstringpref
+prefstring
+customdisplayurl
+tempstring
+oldstyle
+forceprefsave
+dirisserverdeleted
+server
+dirsaveprefsforoneserver
+server
+print
+dirgetprefsfrombranch
+nsvoidarray
+list
+nsresult
+rv
+nsok
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+ppref
+print
+result
+list
+nsvoidarray
+list
+result
+list
+print
+print
+numdirectories
+ppref
+getintpref
+ldap
+numberofdirectories
+numdirectories
+numdirectories
+dirserver
+server
+server
+dirserver
+prcalloc
+dirserver
+server
+prefname
+prsmprintf
+ldap
+directory
+prefname
+dirinitserver
+server
+server
+prefname
+prefname
+dirgetprefsforoneserver
+server
+prfalse
+prtrue
+prsmprintffree
+server
+prefname
+server
+prefname
+dircreateserverprefname
+server
+nsnull
+server
+position
+server
+dirtype
+pabdirectory
+list
+appendelement
+server
+prassert
+numdirectories
+result
+numdirectories
+result
+nsresult
+dirgetprefsfrombranch
+nsvoidarray
+list
+nsvoidarray
+obsoletelist
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+ppref
+nserrorfailure
+list
+nsvoidarray
+list
+nserroroutofmemory
+obsoletelist
+obsoletelist
+nsvoidarray
+obsoletelist
+list
+nserroroutofmemory
+children
+pruint
+prefcount
+nsresult
+rv
+dirgetchildlist
+nsliteralcstring
+prefldapservertreename
+prefcount
+children
+nsfailed
+rv
+rv
+diruserid
+ppref
+getintpref
+prefldapglobaltreename
+userid
+diruserid
+pruint
+prefcount
+dirserver
+server
+server
+dirserver
+prcalloc
+dirserver
+server
+dirinitserver
+server
+server
+prefname
+nscrt
+strdup
+children
+dirgetprefsforoneserver
+server
+prfalse
+prfalse
+server
+description
+server
+description
+server
+dirtype
+pabdirectory
+server
+dirtype
+mapidirectory
+server
+dirtype
+fixedqueryldapdirectory
+server
+dirtype
+ldapdirectory
+server
+servername
+server
+servername
+dirisserverdeleted
+server
+list
+appendelement
+server
+obsoletelist
+obsoletelist
+appendelement
+server
+dirdeleteserver
+server
+dirdeleteserver
+server
+nsfreexpcomallocatedpointerarray
+prefcount
+children
+nsok
+nsresult
+dirgetserverpreferences
+nsvoidarray
+list
+nsresult
+err
+nsok
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+err
+nsfailed
+err
+ppref
+nserrorfailure
+print
+position
+print
+version
+oldchildren
+nsnull
+prbool
+saveprefs
+prfalse
+prbool
+migrating
+prfalse
+nsvoidarray
+oldlist
+nsnull
+nsvoidarray
+obsoletelist
+nsnull
+nsvoidarray
+newlist
+nsnull
+print
+count
+ppref
+getintpref
+prefldapversionname
+version
+prefnoerror
+version
+kpreviouslistversion
+ppref
+setintpref
+prefldapversionname
+kcurrentlistversion
+pruint
+prefcount
+err
+dirgetchildlist
+nsliteralcstring
+ldap
+prefcount
+oldchildren
+nssucceeded
+err
+prefcount
+migrating
+prtrue
+position
+dirgetprefsfrombranch
+oldlist
+nsfreexpcomallocatedpointerarray
+prefcount
+oldchildren
+err
+dirgetprefsfrombranch
+newlist
+migrating
+obsoletelist
+nsnull
+nssucceeded
+err
+oldlist
+newlist
+dirserver
+newserver
+print
+newcount
+newlist
+count
+newcount
+newserver
+dirserver
+newlist
+elementat
+nsnull
+newserver
+dirserver
+oldserver
+print
+oldcount
+oldlist
+count
+oldcount
+oldserver
+dirserver
+oldlist
+elementat
+nsnull
+oldserver
+dirareserverssame
+newserver
+oldserver
+prfalse
+oldserver
+dirtype
+pabdirectory
+newserver
+dirtype
+pabdirectory
+oldserver
+isoffline
+prfalse
+newserver
+isoffline
+prfalse
+prfreeif
+oldserver
+prefname
+oldserver
+prefname
+nscrt
+strdup
+newserver
+prefname
+oldserver
+filename
+oldserver
+filename
+dirsetserverfilename
+oldserver
+nsnull
+oldserver
+flags
+newserver
+flags
+newserver
+position
+count
+newlist
+count
+count
+newserver
+dirserver
+newlist
+elementat
+dirisserverdeleted
+newserver
+dirtestflag
+newserver
+dirpositionlocked
+newserver
+position
+newserver
+position
+position
+oldlist
+appendelement
+newserver
+dirdecrementserverrefcount
+newserver
+newlist
+clear
+dirdeleteserverlist
+newlist
+list
+oldlist
+saveprefs
+prtrue
+list
+newlist
+nssucceeded
+err
+obsoletelist
+dirserver
+obsoleteserver
+nsvoidarray
+walkobsoletelist
+obsoletelist
+count
+walkobsoletelist
+count
+count
+nsnull
+obsoleteserver
+dirserver
+walkobsoletelist
+elementat
+dirserver
+existingserver
+nsvoidarray
+walkexistinglist
+list
+print
+existcount
+walkexistinglist
+count
+existcount
+existingserver
+dirserver
+walkexistinglist
+elementat
+nsnull
+existingserver
+dirareserverssame
+existingserver
+obsoleteserver
+prfalse
+saveprefs
+prtrue
+dirdecrementserverrefcount
+existingserver
+list
+removeelement
+existingserver
+obsoletelist
+dirdeleteserverlist
+obsoletelist
+version
+kcurrentlistversion
+ppref
+setintpref
+prefldapversionname
+kcurrentlistversion
+nsresult
+rv
+nscomptr
+nsiabupgrader
+abupgrader
+dogetservice
+nsabxupgradercontractid
+rv
+nsfailed
+rv
+abupgrader
+dirconverttomabfilename
+saveprefs
+dirsaveserverpreferences
+list
+err
+dirclearprefbranch
+branch
+nsresult
+rv
+nsok
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+ppref
+ppref
+deletebranch
+branch
+dirclearintpref
+pref
+nsresult
+rv
+nsok
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+ppref
+print
+olddefault
+print
+preferr
+ppref
+getdefaultintpref
+pref
+olddefault
+dirclearprefbranch
+pref
+preferr
+ppref
+setdefaultintpref
+pref
+olddefault
+dirclearstringpref
+pref
+nsresult
+rv
+nsok
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+ppref
+olddefault
+nsnull
+print
+preferr
+ppref
+copydefaultcharpref
+pref
+olddefault
+dirclearprefbranch
+pref
+preferr
+ppref
+setdefaultcharpref
+pref
+olddefault
+prfreeif
+olddefault
+dirclearboolpref
+pref
+nsresult
+rv
+nsok
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+ppref
+prbool
+olddefault
+print
+preferr
+ppref
+getdefaultboolpref
+pref
+olddefault
+dirclearprefbranch
+pref
+preferr
+ppref
+setdefaultboolpref
+pref
+olddefault
+dirsetstringpref
+prefroot
+prefleaf
+scratch
+value
+defaultvalue
+nsresult
+rv
+nsok
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+ppref
+defaultpref
+nsnull
+print
+preferr
+prefnoerror
+plstrcpy
+scratch
+prefroot
+plstrcat
+scratch
+plstrcat
+scratch
+prefleaf
+prefnoerror
+ppref
+copydefaultcharpref
+scratch
+defaultpref
+value
+preferr
+ppref
+setcharpref
+scratch
+value
+dirclearstringpref
+scratch
+prfree
+defaultpref
+userpref
+nsnull
+prefnoerror
+ppref
+copycharpref
+scratch
+userpref
+value
+defaultvalue
+nscrt
+strcasecmp
+value
+defaultvalue
+value
+defaultvalue
+preferr
+ppref
+setcharpref
+scratch
+value
+dirclearstringpref
+scratch
+value
+defaultvalue
+nscrt
+strcasecmp
+value
+defaultvalue
+value
+defaultvalue
+preferr
+ppref
+setcharpref
+scratch
+value
+prfreeif
+userpref
+prassert
+preferr
+dirsetintpref
+prefroot
+prefleaf
+scratch
+print
+value
+print
+defaultvalue
+nsresult
+rv
+nsok
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+ppref
+print
+defaultpref
+print
+preferr
+prefnoerror
+plstrcpy
+scratch
+prefroot
+plstrcat
+scratch
+plstrcat
+scratch
+prefleaf
+prefnoerror
+ppref
+getdefaultintpref
+scratch
+defaultpref
+ppref
+setintpref
+scratch
+value
+print
+userpref
+prefnoerror
+ppref
+getintpref
+scratch
+userpref
+value
+defaultvalue
+preferr
+ppref
+setintpref
+scratch
+value
+dirclearintpref
+scratch
+value
+defaultvalue
+preferr
+ppref
+setintpref
+scratch
+value
+prassert
+preferr
+dirsetboolpref
+prefroot
+prefleaf
+scratch
+prbool
+value
+prbool
+defaultvalue
+nsresult
+rv
+nsok
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+ppref
+prbool
+defaultpref
+print
+preferr
+prefnoerror
+plstrcpy
+scratch
+prefroot
+plstrcat
+scratch
+plstrcat
+scratch
+prefleaf
+prefnoerror
+ppref
+getdefaultboolpref
+scratch
+defaultpref
+preferr
+ppref
+setboolpref
+scratch
+value
+prbool
+userpref
+prefnoerror
+ppref
+getboolpref
+scratch
+userpref
+value
+defaultvalue
+preferr
+ppref
+setboolpref
+scratch
+value
+dirclearboolpref
+scratch
+value
+defaultvalue
+preferr
+ppref
+setboolpref
+scratch
+value
+prassert
+preferr
+nsresult
+dirconvertattributetoprefsstring
+dirattribute
+attrib
+ppprefsstring
+nsresult
+err
+nsok
+pruint
+length
+plstrlen
+attrib
+prettyname
+print
+attrib
+attrnames
+length
+plstrlen
+attrib
+attrnames
+length
+ppprefsstring
+prmalloc
+length
+ppprefsstring
+print
+plstrcpy
+ppprefsstring
+attrib
+prettyname
+plstrcat
+ppprefsstring
+attrib
+attrnames
+plstrcat
+ppprefsstring
+attrib
+attrnames
+plstrcat
+ppprefsstring
+err
+nserroroutofmemory
+err
+nsresult
+dirsaveonecustomattribute
+prefroot
+scratch
+dirserver
+server
+dirattributeid
+id
+name
+dirgetdefaultattribute
+id
+name
+nsresult
+err
+nsok
+server
+customattributes
+dirattribute
+attrib
+nsnull
+nsvoidarray
+walklist
+server
+customattributes
+print
+count
+walklist
+count
+print
+count
+attrib
+dirattribute
+walklist
+elementat
+nsnull
+attrib
+id
+id
+jsstring
+nsnull
+nsresult
+res
+dirconvertattributetoprefsstring
+attrib
+jsstring
+nssucceeded
+res
+dirsetstringpref
+prefroot
+name
+scratch
+jsstring
+prfree
+jsstring
+err
+dirsetstringpref
+prefroot
+name
+scratch
+err
+nsresult
+dirsavecustomattributes
+prefroot
+scratch
+dirserver
+server
+nsresult
+err
+nsok
+localscratch
+prmalloc
+localscratch
+plstrcpy
+scratch
+prefroot
+plstrcat
+scratch
+attributes
+dirsaveonecustomattribute
+scratch
+localscratch
+server
+cn
+dirsaveonecustomattribute
+scratch
+localscratch
+server
+givenname
+dirsaveonecustomattribute
+scratch
+localscratch
+server
+sn
+dirsaveonecustomattribute
+scratch
+localscratch
+server
+mail
+dirsaveonecustomattribute
+scratch
+localscratch
+server
+telephonenumber
+dirsaveonecustomattribute
+scratch
+localscratch
+server
+dirsaveonecustomattribute
+scratch
+localscratch
+server
+ou
+dirsaveonecustomattribute
+scratch
+localscratch
+server
+dirsaveonecustomattribute
+scratch
+localscratch
+server
+street
+dirsaveonecustomattribute
+scratch
+localscratch
+server
+custom
+dirsaveonecustomattribute
+scratch
+localscratch
+server
+custom
+dirsaveonecustomattribute
+scratch
+localscratch
+server
+custom
+dirsaveonecustomattribute
+scratch
+localscratch
+server
+custom
+dirsaveonecustomattribute
+scratch
+localscratch
+server
+custom
+dirsaveonecustomattribute
+scratch
+localscratch
+server
+auth
+prfree
+localscratch
+err
+nserroroutofmemory
+err
+nsresult
+dirsavecustomfilters
+prefroot
+scratch
+dirserver
+server
+localscratch
+prmalloc
+nsresult
+err
+nsok
+localscratch
+nserroroutofmemory
+plstrcpy
+scratch
+prefroot
+plstrcat
+scratch
+filter
+server
+customfilters
+dirfilter
+filter
+nsnull
+nsvoidarray
+walklist
+server
+customfilters
+print
+count
+walklist
+count
+print
+count
+filter
+dirfilter
+walklist
+elementat
+nsnull
+dirsetboolpref
+scratch
+repeatfilterforwords
+localscratch
+filter
+flags
+dirfrepeatfilterfortokens
+kdefaultrepeatfilterfortokens
+dirsetstringpref
+scratch
+localscratch
+filter
+kdefaultfilter
+dirsetboolpref
+scratch
+repeatfilterforwords
+localscratch
+kdefaultrepeatfilterfortokens
+kdefaultrepeatfilterfortokens
+dirsetstringpref
+scratch
+localscratch
+kdefaultfilter
+kdefaultfilter
+prfree
+localscratch
+err
+nsresult
+dirsavereplicationinfo
+prefroot
+scratch
+dirserver
+server
+nsresult
+err
+nsok
+localscratch
+prmalloc
+localscratch
+nserroroutofmemory
+plstrcpy
+scratch
+prefroot
+plstrcat
+scratch
+replication
+dirsetboolpref
+scratch
+never
+localscratch
+dirtestflag
+server
+dirreplicatenever
+kdefaultreplicatenever
+dirsetboolpref
+scratch
+enabled
+localscratch
+dirtestflag
+server
+dirreplicationenabled
+kdefaultreplicaenabled
+server
+replinfo
+excludedlist
+nsnull
+print
+print
+excludedlength
+server
+replinfo
+excludedattributescount
+excludedlength
+plstrlen
+server
+replinfo
+excludedattributes
+excludedlength
+excludedlist
+prmalloc
+excludedlength
+excludedlist
+excludedlist
+server
+replinfo
+excludedattributescount
+plstrcat
+excludedlist
+server
+replinfo
+excludedattributes
+plstrcat
+excludedlist
+err
+nserroroutofmemory
+dirsetstringpref
+scratch
+excludedattributes
+localscratch
+excludedlist
+kdefaultreplicaexcludedattributes
+dirsetstringpref
+scratch
+description
+localscratch
+server
+replinfo
+description
+kdefaultreplicadescription
+dirsetstringpref
+scratch
+filename
+localscratch
+server
+replinfo
+filename
+kdefaultreplicafilename
+dirsetstringpref
+scratch
+filter
+localscratch
+server
+replinfo
+filter
+kdefaultreplicafilter
+dirsetintpref
+scratch
+lastchangenumber
+localscratch
+server
+replinfo
+lastchangenumber
+kdefaultreplicachangenumber
+dirsetstringpref
+scratch
+syncurl
+localscratch
+server
+replinfo
+syncurl
+nsnull
+dirsetstringpref
+scratch
+dataversion
+localscratch
+server
+replinfo
+dataversion
+kdefaultreplicadataversion
+dirtestflag
+server
+dirreplicationenabled
+server
+replinfo
+dirreplicationinfo
+prcalloc
+dirreplicationinfo
+prfree
+localscratch
+err
+dirsaveprefsforoneserver
+dirserver
+server
+prefstring
+tempstring
+csidasstring
+nsnull
+server
+prefname
+nsnull
+server
+prefname
+dircreateserverprefname
+server
+nsnull
+prefstring
+server
+prefname
+dirsetflag
+server
+dirsavingserver
+dirsetintpref
+prefstring
+position
+tempstring
+server
+position
+kdefaultposition
+plstrcmp
+prefstring
+ldap
+servers
+pab
+plstrcmp
+prefstring
+ldap
+servers
+history
+dirsetstringpref
+prefstring
+description
+tempstring
+server
+description
+dirsetstringpref
+prefstring
+servername
+tempstring
+server
+servername
+dirsetstringpref
+prefstring
+searchbase
+tempstring
+server
+searchbase
+dirsetstringpref
+prefstring
+filename
+tempstring
+server
+filename
+server
+port
+server
+port
+server
+issecure
+ldapsport
+ldapport
+dirsetintpref
+prefstring
+port
+tempstring
+server
+port
+server
+issecure
+ldapsport
+ldapport
+dirsetintpref
+prefstring
+maxhits
+tempstring
+server
+maxhits
+kdefaultmaxhits
+dirsetboolpref
+prefstring
+issecure
+tempstring
+server
+issecure
+prfalse
+dirsetboolpref
+prefstring
+saveresults
+tempstring
+server
+saveresults
+prtrue
+dirsetboolpref
+prefstring
+efficientwildcards
+tempstring
+server
+efficientwildcards
+prtrue
+dirsetstringpref
+prefstring
+searchstring
+tempstring
+server
+lastsearchstring
+dirsetintpref
+prefstring
+dirtype
+tempstring
+server
+dirtype
+ldapdirectory
+dirsetboolpref
+prefstring
+isoffline
+tempstring
+server
+isoffline
+kdefaultisoffline
+server
+dirtype
+ldapdirectory
+dirsetstringpref
+prefstring
+uri
+tempstring
+server
+uri
+server
+dirtype
+pabdirectory
+dirsetstringpref
+prefstring
+columns
+tempstring
+server
+columnattributes
+kdefaultpabcolumnheaders
+dirsetstringpref
+prefstring
+columns
+tempstring
+server
+columnattributes
+kdefaultldapcolumnheaders
+dirsetboolpref
+prefstring
+autocomplete
+enabled
+tempstring
+dirtestflag
+server
+dirautocompleteenabled
+kdefaultautocompleteenabled
+dirsetstringpref
+prefstring
+autocomplete
+filter
+tempstring
+server
+autocompletefilter
+nsnull
+dirsetboolpref
+prefstring
+autocomplete
+never
+tempstring
+dirtestflag
+server
+dirautocompletenever
+kdefaultautocompletenever
+csidasstring
+csidasstring
+dirsetstringpref
+prefstring
+csid
+tempstring
+csidasstring
+nsnull
+plstrcpy
+tempstring
+prefstring
+plstrcat
+tempstring
+plstrcat
+tempstring
+charset
+dirclearintpref
+tempstring
+dirsetstringpref
+prefstring
+locale
+tempstring
+server
+locale
+nsnull
+dirsetboolpref
+prefstring
+auth
+enabled
+tempstring
+server
+enableauth
+kdefaultenableauth
+dirsetboolpref
+prefstring
+auth
+savepassword
+tempstring
+server
+savepassword
+kdefaultsavepassword
+dirsetstringpref
+prefstring
+auth
+dn
+tempstring
+server
+authdn
+server
+savepassword
+server
+authdn
+server
+password
+dirsetstringpref
+prefstring
+auth
+password
+tempstring
+server
+password
+dirsetstringpref
+prefstring
+auth
+password
+tempstring
+prfreeif
+server
+password
+dirsetboolpref
+prefstring
+vlvdisabled
+tempstring
+dirtestflag
+server
+dirldapvlvdisabled
+kdefaultvlvdisabled
+dirsavecustomattributes
+prefstring
+tempstring
+server
+dirsavecustomfilters
+prefstring
+tempstring
+server
+dirsavereplicationinfo
+prefstring
+tempstring
+server
+dirsetintpref
+prefstring
+palmcategoryid
+tempstring
+server
+palmcategoryid
+dirsetintpref
+prefstring
+palmsynctimestamp
+tempstring
+server
+palmsynctimestamp
+dirsetstringpref
+prefstring
+customdisplayurl
+tempstring
+server
+customdisplayurl
+dirclearflag
+server
+dirsavingserver
+nsresult
+dirsaveserverpreferences
+nsvoidarray
+wholelist
+wholelist
+nsresult
+rv
+nsok
+nscomptr
+nsipref
+ppref
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+ppref
+nserrorfailure
+print
+print
+count
+wholelist
+count
+dirserver
+server
+count
+server
+dirserver
+wholelist
+elementat
+server
+dirsaveprefsforoneserver
+server
+ppref
+setintpref
+prefldapglobaltreename
+userid
+diruserid
+nsok
+dirdefaultattribute
+dirgetdefaultattribute
+dirattributeid
+id
+print
+dirdefaultattribute
+defaults
+defaults
+name
+nsnull
+defaults
+id
+cn
+defaults
+resourceid
+mkldapcommonname
+defaults
+name
+cn
+defaults
+id
+givenname
+defaults
+resourceid
+mkldapgivenname
+defaults
+name
+givenname
+defaults
+id
+sn
+defaults
+resourceid
+mkldapsurname
+defaults
+name
+sn
+defaults
+id
+mail
+defaults
+resourceid
+mkldapemailaddress
+defaults
+name
+mail
+defaults
+id
+telephonenumber
+defaults
+resourceid
+mkldapphonenumber
+defaults
+name
+telephonenumber
+defaults
+id
+defaults
+resourceid
+mkldaporganization
+defaults
+name
+defaults
+id
+ou
+defaults
+resourceid
+mkldaporgunit
+defaults
+name
+ou
+defaults
+id
+defaults
+resourceid
+mkldaplocality
+defaults
+name
+defaults
+id
+street
+defaults
+resourceid
+mkldapstreet
+defaults
+name
+street
+defaults
+id
+custom
+defaults
+resourceid
+mkldapcustom
+defaults
+name
+custom
+defaults
+id
+custom
+defaults
+resourceid
+mkldapcustom
+defaults
+name
+custom
+defaults
+id
+custom
+defaults
+resourceid
+mkldapcustom
+defaults
+name
+custom
+defaults
+id
+custom
+defaults
+resourceid
+mkldapcustom
+defaults
+name
+custom
+defaults
+id
+custom
+defaults
+resourceid
+mkldapcustom
+defaults
+name
+custom
+defaults
+id
+auth
+defaults
+resourceid
+mkldapemailaddress
+defaults
+name
+mail
+defaults
+id
+carlicense
+defaults
+resourceid
+mkldapcarlicense
+defaults
+name
+carlicense
+defaults
+id
+businesscategory
+defaults
+resourceid
+mkldapbusinesscat
+defaults
+name
+businesscategory
+defaults
+id
+departmentnumber
+defaults
+resourceid
+mkldapdeptnumber
+defaults
+name
+businesscategory
+defaults
+id
+description
+defaults
+resourceid
+mkldapdescription
+defaults
+name
+description
+defaults
+id
+employeetype
+defaults
+resourceid
+mkldapemployeetype
+defaults
+name
+employeetype
+defaults
+id
+facsimiletelephonenumber
+defaults
+resourceid
+mkldapfaxnumber
+defaults
+name
+facsimiletelephonenumber
+defaults
+id
+manager
+defaults
+resourceid
+mkldapmanager
+defaults
+name
+manager
+defaults
+id
+objectclass
+defaults
+resourceid
+mkldapobjectclass
+defaults
+name
+objectclass
+defaults
+id
+postaladdress
+defaults
+resourceid
+mkldappostaladdress
+defaults
+name
+postaladdress
+defaults
+id
+postalcode
+defaults
+resourceid
+mkldappostalcode
+defaults
+name
+postalcode
+defaults
+id
+secretary
+defaults
+resourceid
+mkldapsecretary
+defaults
+name
+secretary
+defaults
+id
+title
+defaults
+resourceid
+mkldaptitle
+defaults
+name
+title
+defaults
+id
+nickname
+defaults
+resourceid
+mkldapnickname
+defaults
+name
+nickname
+defaults
+id
+homephone
+defaults
+resourceid
+mkldaphomephone
+defaults
+name
+homephone
+defaults
+id
+pager
+defaults
+resourceid
+mkldappager
+defaults
+name
+pager
+defaults
+id
+mobiletelephonenumber
+defaults
+resourceid
+mkldapmobilephone
+defaults
+name
+mobiletelephonenumber
+defaults
+id
+cn
+defaults
+resourceid
+defaults
+name
+nsnull
+defaults
+name
+defaults
+id
+id
+defaults
+nsnull
+dirgetattributename
+dirserver
+server
+dirattributeid
+id
+result
+nsnull
+nsvoidarray
+list
+server
+customattributes
+dirattribute
+walklist
+nsnull
+print
+count
+list
+count
+print
+count
+walklist
+dirattribute
+list
+elementat
+nsnull
+walklist
+id
+id
+result
+walklist
+prettyname
+result
+dirgetattributestrings
+dirserver
+server
+dirattributeid
+id
+result
+nsnull
+server
+server
+customattributes
+nsvoidarray
+list
+server
+customattributes
+dirattribute
+walklist
+nsnull
+print
+count
+list
+count
+print
+count
+walklist
+dirattribute
+list
+elementat
+nsnull
+walklist
+id
+id
+result
+walklist
+attrnames
+result
+array
+array
+dirgetdefaultattribute
+id
+name
+array
+nsnull
+result
+array
+result
+dirgetfirstattributestring
+dirserver
+server
+dirattributeid
+id
+array
+dirgetattributestrings
+server
+id
+array
+dirgetreplicationfilter
+dirserver
+server
+server
+server
+replinfo
+server
+replinfo
+filter
+nsnull
+dirgetfilterstring
+dirserver
+server
+server
+nsnull
+dirfilter
+filter
+dirfilter
+server
+customfilters
+safeelementat
+filter
+filter
+nsnull
+dirfilter
+dirlookupfilter
+dirserver
+server
+filter
+server
+nsnull
+nsvoidarray
+list
+server
+customfilters
+dirfilter
+walkfilter
+nsnull
+print
+count
+list
+count
+print
+count
+walkfilter
+dirfilter
+list
+elementat
+nsnull
+nscrt
+strcasecmp
+filter
+walkfilter
+walkfilter
+nsnull
+prbool
+dirrepeatfilterfortokens
+dirserver
+server
+filter
+server
+nsnull
+dirfilter
+filter
+dirfilter
+server
+customfilters
+safeelementat
+dirlookupfilter
+server
+filter
+flags
+dirfrepeatfilterfortokens
+kdefaultrepeatfilterfortokens
+prbool
+dirsubststarsforspaces
+dirserver
+server
+filter
+dirfilter
+filterstruct
+dirlookupfilter
+server
+filter
+filterstruct
+filterstruct
+flags
+dirfsubststarsforspaces
+kdefaultsubststarsforspaces
+dirgettokenseparators
+dirserver
+server
+server
+tokenseps
+server
+tokenseps
+kdefaulttokenseps
+prbool
+dirusecustomattribute
+dirserver
+server
+dirattributeid
+id
+nsvoidarray
+list
+server
+customattributes
+dirattribute
+walklist
+nsnull
+print
+count
+list
+count
+print
+count
+walklist
+dirattribute
+list
+elementat
+nsnull
+walklist
+id
+id
+prtrue
+prfalse
+prbool
+dirisdnattribute
+dirserver
+attrib
+dnattributes
+print
+dnattributescount
+nscrt
+strcasecmp
+attrib
+dnattributes
+prtrue
+tolower
+attrib
+nscrt
+strcasecmp
+attrib
+manager
+nscrt
+strcasecmp
+attrib
+member
+prtrue
+nscrt
+strcasecmp
+attrib
+owner
+prtrue
+nscrt
+strcasecmp
+attrib
+uniquemember
+prtrue
+prfalse
+prbool
+dirisattributeexcludedfromhtml
+dirserver
+attrib
+suppressedattributes
+print
+suppressedattributescount
+nscrt
+strcasecmp
+attrib
+suppressedattributes
+prtrue
+prfalse
+prbool
+dirisuriattribute
+dirserver
+attrib
+uriattributes
+print
+uriattributescount
+nscrt
+strcasecmp
+attrib
+uriattributes
+prtrue
+tolower
+attrib
+nscrt
+strcasecmp
+attrib
+labeleduri
+nscrt
+strcasecmp
+attrib
+labeledurl
+prtrue
+nscrt
+strcasecmp
+attrib
+url
+prtrue
+prfalse
+dirsetauthdn
+dirserver
+dn
+tmp
+nsnull
+prassert
+dn
+dn
+authdn
+plstrcmp
+dn
+authdn
+tmp
+nscrt
+strdup
+dn
+tmp
+prfreeif
+authdn
+authdn
+tmp
+savepassword
+dirsaveprefsforoneserver
+dirsetpassword
+dirserver
+password
+tmp
+nsnull
+prassert
+password
+password
+password
+plstrcmp
+password
+password
+tmp
+nscrt
+strdup
+password
+tmp
+prfreeif
+password
+password
+tmp
+savepassword
+dirsaveprefsforoneserver
+prbool
+dirisescapedattribute
+dirserver
+attrib
+tolower
+attrib
+nscrt
+strcasecmp
+attrib
+postaladdress
+prtrue
+nscrt
+strcasecmp
+attrib
+facsimiletelephonenumber
+prtrue
+nscrt
+strcasecmp
+attrib
+othermail
+prtrue
+prfalse
+dirunescape
+src
+prbool
+makehtml
+define
+unhex
+dest
+nsnull
+pruint
+destlength
+pruint
+dollarcount
+pruint
+convertedlengthofdollar
+makehtml
+tmpsrc
+src
+tmpsrc
+tmpsrc
+dollarcount
+destlength
+plstrlen
+src
+dollarcount
+convertedlengthofdollar
+dest
+prmalloc
+destlength
+dest
+tmpdst
+dest
+dest
+tmpsrc
+src
+tmpsrc
+tmpsrc
+makehtml
+tmpdst
+tmpdst
+tmpdst
+tmpdst
+tmpdst
+prbool
+didescape
+prfalse
+tmpsrc
+nscrt
+isasciidigit
+nscrt
+isasciialpha
+tmpsrc
+nscrt
+isasciidigit
+nscrt
+isasciialpha
+tmpdst
+unhex
+unhex
+tmpsrc
+didescape
+prtrue
+didescape
+tmpdst
+tmpsrc
+tmpdst
+tmpsrc
+tmpsrc
+tmpdst
+dest
+endif
+prbool
+dirtestflag
+dirserver
+server
+pruint
+flag
+server
+nsok
+server
+flags
+flag
+prfalse
+dirsetflag
+dirserver
+server
+pruint
+flag
+prassert
+server
+server
+server
+flags
+flag
+dirclearflag
+dirserver
+server
+pruint
+flag
+prassert
+server
+server
+server
+flags
+flag
+dirforceflag
+dirserver
+server
+pruint
+flag
+prbool
+setit
+prassert
+server
+server
+setit
+server
+flags
+flag
+server
+flags
+flag
+dirconverttoservercharset
+dirserver
+server
+src
+print
+srccsid
+dirconvertstring
+srccsid
+print
+server
+server
+csid
+csdefault
+src
+dirconvertfromservercharset
+dirserver
+server
+src
+print
+dstcsid
+dirconvertstring
+print
+server
+server
+csid
+csdefault
+dstcsid
+src
+dirconvertstring
+print
+srccsid
+print
+dstcsid
+nscrt
+strdup
\ No newline at end of file
@@ -0,0 +1,1791 @@
+nsdirectorydatasource
+nsabbasecid
+nsiabdirectory
+nsiaddrbooksession
+nsiabcard
+rdf
+nsirdfservice
+nsrdfcid
+nsirdfnode
+nsenumeratorutils
+nsadapterenumerator
+nsiobserverservice
+nsstring
+nscomptr
+nsxpidlstring
+nsmsgrdfutils
+nsilocaleservice
+nscollationcid
+prmem
+nsdefinecid
+kcollationfactorycid
+nscollationfactorycid
+define
+ncrdfdirname
+home
+netscape
+nc
+rdf
+dirname
+define
+ncrdfcardchild
+home
+netscape
+nc
+rdf
+cardchild
+define
+ncrdfdiruri
+home
+netscape
+nc
+rdf
+diruri
+define
+ncrdfismaillist
+home
+netscape
+nc
+rdf
+ismaillist
+define
+ncrdfisremote
+home
+netscape
+nc
+rdf
+isremote
+define
+ncrdfiswriteable
+home
+netscape
+nc
+rdf
+iswriteable
+define
+ncrdfdirtreenamesort
+home
+netscape
+nc
+rdf
+dirtreenamesort
+define
+ncrdfmodify
+home
+netscape
+nc
+rdf
+modify
+define
+ncrdfdeletecards
+home
+netscape
+nc
+rdf
+deletecards
+nsabdirectorydatasource
+nsabdirectorydatasource
+nsabdirectorydatasource
+nsabdirectorydatasource
+nsresult
+nsabdirectorydatasource
+cleanup
+nsresult
+rv
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+rdf
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+rv
+rdf
+unregisterdatasource
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+absession
+removeaddressbooklistener
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsabdirectorydatasource
+observe
+nsisupports
+asubject
+atopic
+prunichar
+somedata
+strcmp
+atopic
+profile
+change
+dirshutdown
+nsok
+strcmp
+atopic
+nsxpcomshutdownobserverid
+cleanup
+nsok
+nsresult
+nsabdirectorydatasource
+init
+nsresult
+rv
+nscomptr
+nsiaddrbooksession
+absession
+dogetservice
+nsaddrbooksessioncontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+absession
+addaddressbooklistener
+nsiablistener
+all
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+rdf
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+rv
+rdf
+registerdatasource
+prfalse
+nsensuresuccess
+rv
+rv
+rv
+rdf
+getresource
+nsliteralcstring
+ncrdfchild
+getteraddrefs
+kncchild
+nsensuresuccess
+rv
+rv
+rv
+rdf
+getresource
+nsliteralcstring
+ncrdfdirname
+getteraddrefs
+kncdirname
+nsensuresuccess
+rv
+rv
+rv
+rdf
+getresource
+nsliteralcstring
+ncrdfcardchild
+getteraddrefs
+knccardchild
+nsensuresuccess
+rv
+rv
+rv
+rdf
+getresource
+nsliteralcstring
+ncrdfdiruri
+getteraddrefs
+kncdiruri
+nsensuresuccess
+rv
+rv
+rv
+rdf
+getresource
+nsliteralcstring
+ncrdfismaillist
+getteraddrefs
+kncismaillist
+nsensuresuccess
+rv
+rv
+rv
+rdf
+getresource
+nsliteralcstring
+ncrdfisremote
+getteraddrefs
+kncisremote
+nsensuresuccess
+rv
+rv
+rv
+rdf
+getresource
+nsliteralcstring
+ncrdfissecure
+getteraddrefs
+kncissecure
+nsensuresuccess
+rv
+rv
+rv
+rdf
+getresource
+nsliteralcstring
+ncrdfiswriteable
+getteraddrefs
+knciswriteable
+nsensuresuccess
+rv
+rv
+rv
+rdf
+getresource
+nsliteralcstring
+ncrdfdirtreenamesort
+getteraddrefs
+kncdirtreenamesort
+nsensuresuccess
+rv
+rv
+rv
+rdf
+getresource
+nsliteralcstring
+ncrdfmodify
+getteraddrefs
+kncmodify
+nsensuresuccess
+rv
+rv
+rv
+rdf
+getresource
+nsliteralcstring
+ncrdfdelete
+getteraddrefs
+kncdelete
+nsensuresuccess
+rv
+rv
+rv
+rdf
+getresource
+nsliteralcstring
+ncrdfdeletecards
+getteraddrefs
+kncdeletecards
+nsensuresuccess
+rv
+rv
+rv
+createnode
+nsliteralstring
+get
+getteraddrefs
+ktrueliteral
+nsensuresuccess
+rv
+rv
+rv
+createnode
+nsliteralstring
+get
+getteraddrefs
+kfalseliteral
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiobserverservice
+observerservice
+dogetservice
+observer
+service
+rv
+nsensuresuccess
+rv
+rv
+rv
+observerservice
+addobserver
+profile
+change
+prtrue
+nsensuresuccess
+rv
+rv
+rv
+observerservice
+addobserver
+nsxpcomshutdownobserverid
+prtrue
+nsensuresuccess
+rv
+rv
+nsok
+nsimplisupportsinherited
+nsabdirectorydatasource
+nsabrdfdatasource
+nsiablistener
+nsiobserver
+nsisupportsweakreference
+nsimethodimp
+nsabdirectorydatasource
+geturi
+uri
+uri
+nscrt
+strdup
+rdf
+addressdirectory
+nsnull
+nserroroutofmemory
+nsok
+nsimethodimp
+nsabdirectorydatasource
+gettarget
+nsirdfresource
+source
+nsirdfresource
+property
+prbool
+tv
+nsirdfnode
+target
+nsresult
+rv
+nsrdfnovalue
+tv
+nsrdfnovalue
+nscomptr
+nsiabdirectory
+directory
+doqueryinterface
+source
+rv
+nssucceeded
+rv
+directory
+rv
+createdirectorynode
+directory
+property
+target
+nsrdfnovalue
+rv
+nsimethodimp
+nsabdirectorydatasource
+gettargets
+nsirdfresource
+source
+nsirdfresource
+property
+prbool
+tv
+nsisimpleenumerator
+targets
+nsresult
+rv
+nsrdfnovalue
+nsensureargpointer
+targets
+nscomptr
+nsiabdirectory
+directory
+doqueryinterface
+source
+rv
+nssucceeded
+rv
+directory
+kncchild
+property
+nscomptr
+nsienumerator
+subdirectories
+rv
+directory
+getchildnodes
+getteraddrefs
+subdirectories
+nsensuresuccess
+rv
+rv
+nsadapterenumerator
+cursor
+nsadapterenumerator
+subdirectories
+cursor
+nsnull
+nserroroutofmemory
+nsaddref
+cursor
+targets
+cursor
+nsok
+kncdirname
+property
+kncdiruri
+property
+kncismaillist
+property
+kncisremote
+property
+kncissecure
+property
+knciswriteable
+property
+kncdirtreenamesort
+property
+nssingletonenumerator
+cursor
+nssingletonenumerator
+property
+cursor
+nsnull
+nserroroutofmemory
+nsaddref
+cursor
+targets
+cursor
+nsok
+knccardchild
+property
+nscomptr
+nsienumerator
+cardchild
+rv
+directory
+getchildcards
+getteraddrefs
+cardchild
+nssucceeded
+rv
+cardchild
+nsadapterenumerator
+cursor
+nsadapterenumerator
+cardchild
+cursor
+nsnull
+nserroroutofmemory
+nsaddref
+cursor
+targets
+cursor
+nsok
+nsnewemptyenumerator
+targets
+nsimethodimp
+nsabdirectorydatasource
+assert
+nsirdfresource
+source
+nsirdfresource
+property
+nsirdfnode
+target
+prbool
+tv
+nsresult
+rv
+nscomptr
+nsiabdirectory
+directory
+doqueryinterface
+source
+rv
+nssucceeded
+rv
+tv
+dodirectoryassert
+directory
+property
+target
+nserrorfailure
+nsimethodimp
+nsabdirectorydatasource
+hasassertion
+nsirdfresource
+source
+nsirdfresource
+property
+nsirdfnode
+target
+prbool
+tv
+prbool
+hasassertion
+nsresult
+rv
+nscomptr
+nsiabdirectory
+directory
+doqueryinterface
+source
+rv
+nssucceeded
+rv
+dodirectoryhasassertion
+directory
+property
+target
+tv
+hasassertion
+hasassertion
+prfalse
+nsok
+nsimethodimp
+nsabdirectorydatasource
+hasarcout
+nsirdfresource
+asource
+nsirdfresource
+aarc
+prbool
+result
+nsresult
+rv
+nscomptr
+nsiabdirectory
+directory
+doqueryinterface
+asource
+rv
+nssucceeded
+rv
+result
+aarc
+kncdirname
+aarc
+kncchild
+aarc
+knccardchild
+aarc
+kncdiruri
+aarc
+kncismaillist
+aarc
+kncisremote
+aarc
+kncissecure
+aarc
+knciswriteable
+aarc
+kncdirtreenamesort
+result
+prfalse
+nsok
+nsimethodimp
+nsabdirectorydatasource
+arclabelsout
+nsirdfresource
+source
+nsisimpleenumerator
+labels
+nscomptr
+nsisupportsarray
+arcs
+nsresult
+rv
+nsrdfnovalue
+nscomptr
+nsiabdirectory
+directory
+doqueryinterface
+source
+rv
+nssucceeded
+rv
+rv
+getdirectoryarclabelsout
+directory
+getteraddrefs
+arcs
+nsnewisupportsarray
+getteraddrefs
+arcs
+nsarrayenumerator
+cursor
+nsarrayenumerator
+arcs
+cursor
+nsnull
+nserroroutofmemory
+nsaddref
+cursor
+labels
+cursor
+nsok
+nsresult
+nsabdirectorydatasource
+getdirectoryarclabelsout
+nsiabdirectory
+directory
+nsisupportsarray
+arcs
+nsresult
+rv
+rv
+nsnewisupportsarray
+arcs
+nsensuresuccess
+rv
+rv
+arcs
+appendelement
+kncdirname
+arcs
+appendelement
+kncchild
+arcs
+appendelement
+knccardchild
+arcs
+appendelement
+kncdiruri
+arcs
+appendelement
+kncismaillist
+arcs
+appendelement
+kncisremote
+arcs
+appendelement
+kncissecure
+arcs
+appendelement
+knciswriteable
+arcs
+appendelement
+kncdirtreenamesort
+nsok
+nsimethodimp
+nsabdirectorydatasource
+iscommandenabled
+nsisupportsarray
+asources
+nsirdfresource
+acommand
+nsisupportsarray
+aarguments
+prbool
+aresult
+nsresult
+rv
+nscomptr
+nsiabdirectory
+directory
+pruint
+cnt
+rv
+asources
+count
+cnt
+cnt
+directory
+doqueryelementat
+asources
+rv
+nssucceeded
+rv
+acommand
+kncdelete
+acommand
+kncdeletecards
+acommand
+kncmodify
+aresult
+prfalse
+nsok
+aresult
+prtrue
+nsok
+nsimethodimp
+nsabdirectorydatasource
+docommand
+nsisupportsarray
+asources
+nsirdfresource
+acommand
+nsisupportsarray
+aarguments
+pruint
+cnt
+nsresult
+rv
+asources
+count
+cnt
+nsensuresuccess
+rv
+rv
+acommand
+kncmodify
+rv
+domodifydirectory
+asources
+aarguments
+acommand
+kncdelete
+rv
+dodeletefromdirectory
+asources
+aarguments
+cnt
+nscomptr
+nsiabdirectory
+directory
+doqueryelementat
+asources
+rv
+nssucceeded
+rv
+nsassertion
+acommand
+kncdeletecards
+unknown
+command
+acommand
+kncdeletecards
+rv
+dodeletecardsfromdirectory
+directory
+aarguments
+nsok
+nsimethodimp
+nsabdirectorydatasource
+onitemadded
+nsisupports
+parentdirectory
+nsisupports
+item
+nsresult
+rv
+nscomptr
+nsiabcard
+card
+nscomptr
+nsiabdirectory
+directory
+nscomptr
+nsirdfresource
+parentresource
+nssucceeded
+parentdirectory
+queryinterface
+nsgetiid
+nsirdfresource
+getteraddrefs
+parentresource
+nssucceeded
+item
+queryinterface
+nsgetiid
+nsiabcard
+getteraddrefs
+card
+nscomptr
+nsirdfnode
+itemnode
+doqueryinterface
+item
+rv
+nssucceeded
+rv
+notifyobservers
+parentresource
+knccardchild
+itemnode
+prtrue
+prfalse
+nssucceeded
+item
+queryinterface
+nsgetiid
+nsiabdirectory
+getteraddrefs
+directory
+nscomptr
+nsirdfnode
+itemnode
+doqueryinterface
+item
+rv
+nssucceeded
+rv
+notifyobservers
+parentresource
+kncchild
+itemnode
+prtrue
+prfalse
+nsok
+nsresult
+nsabdirectorydatasource
+domodifydirectory
+nsisupportsarray
+parentdir
+nsisupportsarray
+arguments
+pruint
+itemcount
+nsresult
+rv
+parentdir
+count
+itemcount
+nsensuresuccess
+rv
+rv
+nsassertion
+itemcount
+domodifydirectory
+must
+have
+parent
+directory
+count
+itemcount
+nserrorfailure
+nscomptr
+nsiabdirectory
+parent
+doqueryelementat
+parentdir
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupportsarray
+resourcearray
+doqueryelementat
+arguments
+rv
+nsensuresuccess
+rv
+rv
+rv
+resourcearray
+count
+itemcount
+nsensuresuccess
+rv
+rv
+nsassertion
+itemcount
+domodifydirectory
+must
+have
+resource
+argument
+count
+itemcount
+nserrorfailure
+nscomptr
+nsiabdirectory
+modifieddir
+doqueryelementat
+resourcearray
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabdirectoryproperties
+properties
+doqueryelementat
+resourcearray
+rv
+nsensuresuccess
+rv
+rv
+modifieddir
+properties
+rv
+parent
+modifydirectory
+modifieddir
+properties
+rv
+nsimethodimp
+nsabdirectorydatasource
+onitemremoved
+nsisupports
+parentdirectory
+nsisupports
+item
+nsresult
+rv
+nscomptr
+nsiabcard
+card
+nscomptr
+nsiabdirectory
+directory
+nscomptr
+nsirdfresource
+parentresource
+nssucceeded
+parentdirectory
+queryinterface
+nsgetiid
+nsirdfresource
+getteraddrefs
+parentresource
+nssucceeded
+item
+queryinterface
+nsgetiid
+nsiabcard
+getteraddrefs
+card
+nscomptr
+nsirdfnode
+itemnode
+doqueryinterface
+item
+rv
+nssucceeded
+rv
+notifyobservers
+parentresource
+knccardchild
+itemnode
+prfalse
+prfalse
+nssucceeded
+item
+queryinterface
+nsgetiid
+nsiabdirectory
+getteraddrefs
+directory
+nscomptr
+nsirdfnode
+itemnode
+doqueryinterface
+item
+rv
+nssucceeded
+rv
+notifyobservers
+parentresource
+kncchild
+itemnode
+prfalse
+prfalse
+nsok
+nsimethodimp
+nsabdirectorydatasource
+onitempropertychanged
+nsisupports
+item
+property
+prunichar
+oldvalue
+prunichar
+newvalue
+nsresult
+rv
+nscomptr
+nsirdfresource
+resource
+doqueryinterface
+item
+rv
+nssucceeded
+rv
+plstrcmp
+dirname
+property
+notifypropertychanged
+resource
+kncdirname
+oldvalue
+newvalue
+nsok
+nsresult
+nsabdirectorydatasource
+createdirectorynode
+nsiabdirectory
+directory
+nsirdfresource
+property
+nsirdfnode
+target
+nsresult
+rv
+nsrdfnovalue
+kncdirname
+property
+rv
+createdirectorynamenode
+directory
+target
+kncdiruri
+property
+rv
+createdirectoryurinode
+directory
+target
+kncchild
+property
+rv
+createdirectorychildnode
+directory
+target
+kncismaillist
+property
+rv
+createdirectoryismaillistnode
+directory
+target
+kncisremote
+property
+rv
+createdirectoryisremotenode
+directory
+target
+kncissecure
+property
+rv
+createdirectoryissecurenode
+directory
+target
+knciswriteable
+property
+rv
+createdirectoryiswriteablenode
+directory
+target
+kncdirtreenamesort
+property
+rv
+createdirectorytreenamesortnode
+directory
+target
+rv
+nsresult
+nsabdirectorydatasource
+createdirectorynamenode
+nsiabdirectory
+directory
+nsirdfnode
+target
+nsresult
+rv
+nsok
+nsxpidlstring
+name
+rv
+directory
+getdirname
+gettercopies
+name
+nsensuresuccess
+rv
+rv
+rv
+createnode
+name
+get
+target
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsabdirectorydatasource
+createdirectoryurinode
+nsiabdirectory
+directory
+nsirdfnode
+target
+nscomptr
+nsirdfresource
+source
+doqueryinterface
+directory
+nsxpidlcstring
+uri
+nsresult
+rv
+source
+getvalue
+gettercopies
+uri
+nsensuresuccess
+rv
+rv
+nsautostring
+namestring
+namestring
+assignwithconversion
+uri
+rv
+createnode
+namestring
+get
+target
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsabdirectorydatasource
+createdirectorychildnode
+nsiabdirectory
+directory
+nsirdfnode
+target
+nscomptr
+nsisupportsarray
+paddresslists
+directory
+getaddresslists
+getteraddrefs
+paddresslists
+paddresslists
+pruint
+total
+paddresslists
+count
+total
+total
+nsrdfnovalue
+prbool
+ismaillist
+prfalse
+directory
+getismaillist
+ismaillist
+ismaillist
+nsrdfnovalue
+pruint
+nsassertion
+total
+this
+code
+probably
+leaks
+please
+out
+of
+the
+loop
+something
+ok
+total
+nscomptr
+nsirdfresource
+maillist
+doqueryelementat
+paddresslists
+maillist
+nsaddref
+target
+maillist
+nsrdfnovalue
+nsok
+nsrdfnovalue
+nsresult
+nsabdirectorydatasource
+createdirectoryisremotenode
+nsiabdirectory
+directory
+nsirdfnode
+target
+prbool
+isremote
+nsresult
+rv
+directory
+getisremote
+isremote
+nsensuresuccess
+rv
+rv
+nsifaddref
+target
+isremote
+ktrueliteral
+kfalseliteral
+nsok
+nsresult
+nsabdirectorydatasource
+createdirectoryissecurenode
+nsiabdirectory
+directory
+nsirdfnode
+target
+prbool
+issecure
+nsresult
+rv
+directory
+getissecure
+issecure
+nsensuresuccess
+rv
+rv
+nsifaddref
+target
+issecure
+ktrueliteral
+kfalseliteral
+nsok
+nsresult
+nsabdirectorydatasource
+createdirectoryiswriteablenode
+nsiabdirectory
+directory
+nsirdfnode
+target
+prbool
+iswriteable
+nsresult
+rv
+directory
+getoperations
+iswriteable
+nsensuresuccess
+rv
+rv
+nsifaddref
+target
+iswriteable
+nsiabdirectory
+opwrite
+ktrueliteral
+kfalseliteral
+nsok
+nsresult
+nsabdirectorydatasource
+createdirectoryismaillistnode
+nsiabdirectory
+directory
+nsirdfnode
+target
+nsresult
+rv
+prbool
+ismaillist
+rv
+directory
+getismaillist
+ismaillist
+nsensuresuccess
+rv
+rv
+nsifaddref
+target
+ismaillist
+ktrueliteral
+kfalseliteral
+nsok
+nsresult
+nsabdirectorydatasource
+createdirectorytreenamesortnode
+nsiabdirectory
+directory
+nsirdfnode
+target
+nsxpidlstring
+name
+nsresult
+rv
+directory
+getdirname
+gettercopies
+name
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+resource
+doqueryinterface
+directory
+uri
+nsnull
+rv
+resource
+getvalueconst
+uri
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiabdirectoryproperties
+properties
+rv
+directory
+getdirectoryproperties
+getteraddrefs
+properties
+nsensuresuccess
+rv
+rv
+pruint
+dirtype
+rv
+properties
+getdirtype
+dirtype
+nsensuresuccess
+rv
+rv
+prbool
+ismaillist
+prfalse
+directory
+getismaillist
+ismaillist
+nsautostring
+sortstring
+ismaillist
+sortstring
+appendint
+dirtype
+pabdirectory
+strcmp
+uri
+kpersonaladdressbookuri
+sortstring
+appendint
+strcmp
+uri
+kcollectedaddressbookuri
+sortstring
+appendint
+sortstring
+appendint
+dirtype
+ldapdirectory
+sortstring
+appendint
+dirtype
+mapidirectory
+sortstring
+appendint
+sortstring
+appendint
+sortstring
+name
+pruint
+sortkey
+nsnull
+pruint
+sortkeylength
+rv
+createcollationkey
+sortstring
+sortkey
+sortkeylength
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfservice
+rdfservice
+dogetservice
+nsrdfcontractid
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+createblobnode
+sortkey
+sortkeylength
+target
+rdfservice
+nsensuresuccess
+rv
+rv
+prfree
+sortkey
+nsok
+nsresult
+nsabdirectorydatasource
+createcollationkey
+nsstring
+asource
+pruint
+akey
+pruint
+alength
+nsensureargpointer
+akey
+nsensureargpointer
+alength
+nsresult
+rv
+mcollationkeygenerator
+nscomptr
+nsilocaleservice
+localesvc
+dogetservice
+nslocaleservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsilocale
+locale
+rv
+localesvc
+getapplicationlocale
+getteraddrefs
+locale
+nsensuresuccess
+rv
+rv
+nscomptr
+nsicollationfactory
+factory
+docreateinstance
+kcollationfactorycid
+rv
+nsensuresuccess
+rv
+rv
+rv
+factory
+createcollation
+locale
+getteraddrefs
+mcollationkeygenerator
+nsensuresuccess
+rv
+rv
+rv
+mcollationkeygenerator
+getsortkeylen
+kcollationcaseinsensitive
+asource
+alength
+nsensuresuccess
+rv
+rv
+alength
+nserrorfailure
+akey
+pruint
+prmalloc
+alength
+akey
+nserroroutofmemory
+mcollationkeygenerator
+createrawsortkey
+kcollationcaseinsensitive
+asource
+akey
+alength
+nsresult
+nsabdirectorydatasource
+dodeletefromdirectory
+nsisupportsarray
+parentdirs
+nsisupportsarray
+deldirs
+pruint
+item
+itemcount
+nsresult
+rv
+parentdirs
+count
+itemcount
+nsensuresuccess
+rv
+rv
+item
+item
+itemcount
+item
+nscomptr
+nsiabdirectory
+parent
+doqueryelementat
+parentdirs
+item
+rv
+nssucceeded
+rv
+nscomptr
+nsiabdirectory
+deleteddir
+doqueryelementat
+deldirs
+item
+deleteddir
+rv
+parent
+deletedirectory
+deleteddir
+rv
+nsresult
+nsabdirectorydatasource
+dodeletecardsfromdirectory
+nsiabdirectory
+directory
+nsisupportsarray
+arguments
+nsresult
+rv
+nsok
+pruint
+itemcount
+rv
+arguments
+count
+itemcount
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupportsarray
+cardarray
+nsnewisupportsarray
+getteraddrefs
+cardarray
+pruint
+item
+item
+item
+itemcount
+item
+nscomptr
+nsisupports
+supports
+getteraddrefs
+arguments
+elementat
+item
+nscomptr
+nsiabcard
+deletedcard
+doqueryinterface
+supports
+deletedcard
+cardarray
+appendelement
+supports
+pruint
+cnt
+rv
+cardarray
+count
+cnt
+nsensuresuccess
+rv
+rv
+cnt
+rv
+directory
+deletecards
+cardarray
+rv
+nsresult
+nsabdirectorydatasource
+dodirectoryassert
+nsiabdirectory
+directory
+nsirdfresource
+property
+nsirdfnode
+target
+nsresult
+rv
+nserrorfailure
+rv
+nsresult
+nsabdirectorydatasource
+dodirectoryhasassertion
+nsiabdirectory
+directory
+nsirdfresource
+property
+nsirdfnode
+target
+prbool
+tv
+prbool
+hasassertion
+nsresult
+rv
+nsok
+hasassertion
+nserrornullpointer
+tv
+hasassertion
+prfalse
+nsok
+knccardchild
+property
+nscomptr
+nsiabcard
+card
+doqueryinterface
+target
+rv
+nssucceeded
+rv
+rv
+directory
+hascard
+card
+hasassertion
+kncchild
+property
+nscomptr
+nsiabdirectory
+newdirectory
+doqueryinterface
+target
+rv
+nssucceeded
+rv
+rv
+directory
+hasdirectory
+newdirectory
+hasassertion
+kncismaillist
+property
+kncisremote
+property
+kncissecure
+property
+knciswriteable
+property
+nscomptr
+nsirdfresource
+dirresource
+doqueryinterface
+directory
+rv
+nsensuresuccess
+rv
+rv
+rv
+gettargethasassertion
+dirresource
+property
+tv
+target
+hasassertion
+hasassertion
+prfalse
+rv
+nsresult
+nsabdirectorydatasource
+gettargethasassertion
+nsirdfdatasource
+datasource
+nsirdfresource
+dirresource
+nsirdfresource
+property
+prbool
+tv
+nsirdfnode
+target
+prbool
+hasassertion
+nsresult
+rv
+hasassertion
+nserrornullpointer
+nscomptr
+nsirdfnode
+currenttarget
+rv
+datasource
+gettarget
+dirresource
+property
+tv
+getteraddrefs
+currenttarget
+nssucceeded
+rv
+nscomptr
+nsirdfliteral
+value
+doqueryinterface
+target
+nscomptr
+nsirdfliteral
+value
+doqueryinterface
+currenttarget
+value
+value
+hasassertion
+value
+value
+rv
+nsnointerface
+rv
+nsresult
+nsnewabdirectorydatasource
+nsiid
+iid
+result
+nsprecondition
+result
+nsnull
+ptr
+result
+nserrornullpointer
+nsabdirectorydatasource
+datasource
+nsabdirectorydatasource
+datasource
+nserroroutofmemory
+nsresult
+rv
+rv
+datasource
+init
+nsfailed
+rv
+datasource
+rv
+datasource
+queryinterface
+iid
+result
\ No newline at end of file
@@ -0,0 +1,301 @@
+msgcore
+nsmsgsearchcore
+nsmsgutils
+nsmsgbodyhandler
+nsmsgsearchterm
+nsfilestream
+nsifilestream
+nsifilespec
+nsmsgbodyhandler
+nsmsgbodyhandler
+nsimsgsearchscopeterm
+scope
+pruint
+offset
+pruint
+numlines
+nsimsgdbhdr
+msg
+nsimsgdatabase
+db
+mscope
+scope
+mlocalfileoffset
+offset
+mnumlocallines
+numlines
+mmsghdr
+msg
+mdb
+db
+mheaders
+mheaderssize
+mfiltering
+prfalse
+initialize
+openlocalfolder
+nsmsgbodyhandler
+nsmsgbodyhandler
+nsimsgsearchscopeterm
+scope
+pruint
+offset
+pruint
+numlines
+nsimsgdbhdr
+msg
+nsimsgdatabase
+db
+headers
+pruint
+headerssize
+prbool
+filtering
+mscope
+scope
+mlocalfileoffset
+offset
+mnumlocallines
+numlines
+mmsghdr
+msg
+mdb
+db
+mheaderssize
+headerssize
+mfiltering
+filtering
+initialize
+mfiltering
+mheaders
+headers
+openlocalfolder
+nsmsgbodyhandler
+initialize
+mstripheaders
+prtrue
+mstriphtml
+prtrue
+mmessageishtml
+prfalse
+mpassedheaders
+prfalse
+mheaderbytesread
+nsmsgbodyhandler
+nsmsgbodyhandler
+mfilespec
+prbool
+isopen
+mfilespec
+isstreamopen
+isopen
+isopen
+mfilespec
+closestream
+print
+nsmsgbodyhandler
+getnextline
+buf
+bufsize
+print
+length
+prbool
+eatthisline
+prfalse
+mfiltering
+length
+getnextfilterline
+buf
+bufsize
+mdb
+length
+getnextlocalline
+buf
+bufsize
+length
+length
+applytransformations
+buf
+length
+eatthisline
+eatthisline
+length
+length
+nsmsgbodyhandler
+openlocalfolder
+nsresult
+rv
+mscope
+getmailpath
+getteraddrefs
+mfilespec
+prbool
+isopen
+prfalse
+nssucceeded
+rv
+mfilespec
+mfilespec
+isstreamopen
+isopen
+isopen
+mfilespec
+openstreamforreading
+mfilespec
+seek
+mlocalfileoffset
+print
+nsmsgbodyhandler
+getnextfilterline
+buf
+pruint
+bufsize
+pruint
+numbytescopied
+mheaderssize
+mheaders
+nscrt
+cr
+mheaders
+nscrt
+lf
+mheaders
+mheaders
+mheaderssize
+mheaders
+mheaderssize
+mheaderssize
+numbytescopied
+strlen
+mheaders
+bufsize
+strlen
+mheaders
+print
+bufsize
+memcpy
+buf
+mheaders
+numbytescopied
+mheaders
+numbytescopied
+mheaderssize
+numbytescopied
+mheaderssize
+mheaderssize
+numbytescopied
+print
+numbytescopied
+mheaderssize
+buf
+print
+nsmsgbodyhandler
+getnextlocalline
+buf
+bufsize
+mnumlocallines
+mpassedheaders
+mnumlocallines
+mfilespec
+prbool
+iseof
+prfalse
+nsresult
+rv
+mfilespec
+eof
+iseof
+nsfailed
+rv
+iseof
+prbool
+wastruncated
+prfalse
+rv
+mfilespec
+readline
+buf
+bufsize
+wastruncated
+nssucceeded
+rv
+wastruncated
+strlen
+buf
+print
+nsmsgbodyhandler
+applytransformations
+buf
+print
+length
+prbool
+eatthisline
+print
+newlength
+length
+eatthisline
+prfalse
+mpassedheaders
+mstripheaders
+eatthisline
+prtrue
+nscrt
+strncasecmp
+buf
+content
+type
+plstrcasestr
+buf
+text
+html
+mmessageishtml
+prtrue
+mpassedheaders
+emptymessageline
+buf
+mstriphtml
+mmessageishtml
+striphtml
+buf
+newlength
+strlen
+buf
+newlength
+nsmsgbodyhandler
+striphtml
+pbufinout
+pbuf
+prmalloc
+strlen
+pbufinout
+pbuf
+pwalk
+pbuf
+pwalkinout
+pbufinout
+prbool
+intag
+prfalse
+pwalkinout
+intag
+pwalkinout
+intag
+prtrue
+pwalk
+pwalkinout
+pwalkinout
+intag
+prfalse
+pwalkinout
+pwalk
+pwalk
+pbuf
+pwalkinout
+pbufinout
+pwalk
+pwalkinout
+pwalk
+pwalkinout
+pwalk
+prfree
+pbuf
\ No newline at end of file
@@ -0,0 +1,1363 @@
+msgcore
+nsmsgbasecid
+nsimsghdr
+nsmsgfilterlist
+nsmsgfilter
+nsmsgutils
+nsfilestream
+nsmsglocalsearch
+nsmsgsearchterm
+nsxpidlstring
+nsmsgsearchscopeterm
+nsimsgaccountmanager
+nsimsgincomingserver
+nsmsgsearchvalue
+nsreadableutils
+nsescape
+nsmsgutfutils
+nsiimportservice
+nsisupportsobsolete
+nsioutputstream
+nsescape
+kimapprefix
+imap
+kwhitespace
+nsmsgruleaction
+nsmsgruleaction
+nsmsgruleaction
+nsmsgruleaction
+nsimplisupports
+nsmsgruleaction
+nsimsgruleaction
+nsimplgetset
+nsmsgruleaction
+type
+nsmsgruleactiontype
+mtype
+nsimethodimp
+nsmsgruleaction
+setpriority
+nsmsgpriorityvalue
+apriority
+nsensuretrue
+mtype
+nsmsgfilteraction
+changepriority
+nserrorillegalvalue
+mpriority
+apriority
+nsok
+nsimethodimp
+nsmsgruleaction
+getpriority
+nsmsgpriorityvalue
+aresult
+nsensureargpointer
+aresult
+nsensuretrue
+mtype
+nsmsgfilteraction
+changepriority
+nserrorillegalvalue
+aresult
+mpriority
+nsok
+nsimethodimp
+nsmsgruleaction
+setlabel
+nsmsglabelvalue
+alabel
+nsensuretrue
+mtype
+nsmsgfilteraction
+label
+nserrorillegalvalue
+mlabel
+alabel
+nsok
+nsimethodimp
+nsmsgruleaction
+getlabel
+nsmsglabelvalue
+aresult
+nsensureargpointer
+aresult
+nsensuretrue
+mtype
+nsmsgfilteraction
+label
+nserrorillegalvalue
+aresult
+mlabel
+nsok
+nsimethodimp
+nsmsgruleaction
+settargetfolderuri
+auri
+nsensureargpointer
+auri
+nsensuretrue
+mtype
+nsmsgfilteraction
+movetofolder
+nserrorillegalvalue
+mfolderuri
+auri
+nsok
+nsimethodimp
+nsmsgruleaction
+gettargetfolderuri
+aresult
+nsensureargpointer
+aresult
+nsensuretrue
+mtype
+nsmsgfilteraction
+movetofolder
+nserrorillegalvalue
+aresult
+tonewcstring
+mfolderuri
+nsok
+nsmsgfilter
+nsmsgfilter
+mtemporary
+prfalse
+munparseable
+prfalse
+mfilterlist
+nsnull
+nsnewisupportsarray
+getteraddrefs
+mtermlist
+nsnewisupportsarray
+getteraddrefs
+mactionlist
+mtype
+nsmsgfiltertype
+inboxrule
+nsmsgfilter
+nsmsgfilter
+nsimplisupports
+nsmsgfilter
+nsimsgfilter
+nsimplgetset
+nsmsgfilter
+filtertype
+nsmsgfiltertypetype
+mtype
+nsimplgetset
+nsmsgfilter
+enabled
+prbool
+menabled
+nsimplgetset
+nsmsgfilter
+temporary
+prbool
+mtemporary
+nsimplgetset
+nsmsgfilter
+unparseable
+prbool
+munparseable
+nsimethodimp
+nsmsgfilter
+getfiltername
+prunichar
+name
+nsensureargpointer
+name
+name
+tonewunicode
+mfiltername
+nsok
+nsimethodimp
+nsmsgfilter
+setfiltername
+prunichar
+name
+mfiltername
+assign
+name
+nsok
+nsimethodimp
+nsmsgfilter
+getfilterdesc
+description
+nsensureargpointer
+description
+description
+tonewcstring
+mdescription
+nsok
+nsimethodimp
+nsmsgfilter
+setfilterdesc
+description
+mdescription
+assign
+description
+nsok
+nsimethodimp
+nsmsgfilter
+getunparsedbuffer
+unparsedbuffer
+nsensureargpointer
+unparsedbuffer
+unparsedbuffer
+tonewcstring
+munparsedbuffer
+nsok
+nsimethodimp
+nsmsgfilter
+setunparsedbuffer
+unparsedbuffer
+munparsedbuffer
+assign
+unparsedbuffer
+nsok
+nsimethodimp
+nsmsgfilter
+addterm
+nsmsgsearchattribvalue
+attrib
+nsmsgsearchopvalue
+op
+nsimsgsearchvalue
+value
+prbool
+booleanand
+arbitraryheader
+nsok
+nsimethodimp
+nsmsgfilter
+appendterm
+nsimsgsearchterm
+aterm
+nsensuretrue
+aterm
+nserrornullpointer
+mtermlist
+appendelement
+nsstaticcast
+nsisupports
+aterm
+nsimethodimp
+nsmsgfilter
+createterm
+nsimsgsearchterm
+aresult
+nsmsgsearchterm
+term
+nsmsgsearchterm
+nsensuretrue
+term
+nserroroutofmemory
+aresult
+nsstaticcast
+nsimsgsearchterm
+term
+nsaddref
+aresult
+nsok
+nsimethodimp
+nsmsgfilter
+createaction
+nsimsgruleaction
+aaction
+nsensureargpointer
+aaction
+nsmsgruleaction
+action
+nsmsgruleaction
+nsensuretrue
+action
+nserroroutofmemory
+aaction
+nsstaticcast
+nsimsgruleaction
+action
+nsaddref
+aaction
+nsok
+nsimethodimp
+nsmsgfilter
+getsortedactionlist
+nsisupportsarray
+actionlist
+nsensureargpointer
+actionlist
+pruint
+numactions
+nsresult
+err
+mactionlist
+count
+numactions
+nsensuresuccess
+err
+err
+pruint
+index
+index
+numactions
+index
+nscomptr
+nsimsgruleaction
+action
+err
+mactionlist
+queryelementat
+index
+nsgetiid
+nsimsgruleaction
+getteraddrefs
+action
+action
+nsmsgruleactiontype
+actiontype
+action
+gettype
+actiontype
+actiontype
+nsmsgfilteraction
+movetofolder
+actionlist
+appendelement
+action
+actionlist
+insertelementat
+action
+err
+nsimethodimp
+nsmsgfilter
+appendaction
+nsimsgruleaction
+aaction
+mactionlist
+appendelement
+nsstaticcast
+nsisupports
+aaction
+nsimethodimp
+nsmsgfilter
+getactionat
+print
+aindex
+nsimsgruleaction
+aaction
+nsensureargpointer
+aaction
+mactionlist
+queryelementat
+aindex
+nsgetiid
+nsimsgruleaction
+aaction
+nsimethodimp
+nsmsgfilter
+getactionlist
+nsisupportsarray
+actionlist
+nsifaddref
+actionlist
+mactionlist
+nsok
+nsimethodimp
+nsmsgfilter
+clearactionlist
+mactionlist
+clear
+nsimethodimp
+nsmsgfilter
+getterm
+print
+termindex
+nsmsgsearchattribvalue
+attrib
+nsmsgsearchopvalue
+op
+nsimsgsearchvalue
+value
+prbool
+booleanand
+arbitraryheader
+nsresult
+rv
+nscomptr
+nsimsgsearchterm
+term
+rv
+mtermlist
+queryelementat
+termindex
+nsgetiid
+nsimsgsearchterm
+getteraddrefs
+term
+nssucceeded
+rv
+term
+attrib
+term
+getattrib
+attrib
+op
+term
+getop
+op
+value
+term
+getvalue
+value
+booleanand
+term
+getbooleanand
+booleanand
+attrib
+arbitraryheader
+attrib
+nsmsgsearchattrib
+otherheader
+attrib
+nsmsgsearchattrib
+knummsgsearchattributes
+term
+getarbitraryheader
+arbitraryheader
+nsok
+nsimethodimp
+nsmsgfilter
+getsearchterms
+nsisupportsarray
+aresult
+nsensureargpointer
+aresult
+nsifaddref
+aresult
+mtermlist
+nsok
+nsimethodimp
+nsmsgfilter
+setsearchterms
+nsisupportsarray
+asearchlist
+mtermlist
+asearchlist
+nsok
+nsimethodimp
+nsmsgfilter
+setscope
+nsimsgsearchscopeterm
+aresult
+mscope
+aresult
+nsok
+nsimethodimp
+nsmsgfilter
+getscope
+nsimsgsearchscopeterm
+aresult
+nsensureargpointer
+aresult
+nsifaddref
+aresult
+mscope
+nsok
+define
+logentrystarttag
+define
+logentrystarttaglen
+strlen
+logentrystarttag
+define
+logentryendtag
+define
+logentryendtaglen
+strlen
+logentryendtag
+nsimethodimp
+nsmsgfilter
+logrulehit
+nsimsgruleaction
+afilteraction
+nsimsgdbhdr
+amsghdr
+nscomptr
+nsioutputstream
+logstream
+nsresult
+rv
+mfilterlist
+getlogstream
+getteraddrefs
+logstream
+nsensuresuccess
+rv
+rv
+prtime
+date
+datestr
+nsmsgruleactiontype
+actiontype
+nsxpidlcstring
+author
+nsxpidlcstring
+subject
+nsxpidlstring
+filtername
+getfiltername
+gettercopies
+filtername
+afilteraction
+gettype
+actiontype
+rv
+amsghdr
+getdate
+date
+prexplodedtime
+exploded
+prexplodetime
+date
+prlocaltimeparameters
+exploded
+prformattimeusenglish
+datestr
+exploded
+amsghdr
+getauthor
+gettercopies
+author
+amsghdr
+getsubject
+gettercopies
+subject
+nscstring
+buffer
+buffer
+setcapacity
+buffer
+applied
+filter
+buffer
+nsconvertucstoutf
+filtername
+get
+buffer
+to
+message
+from
+buffer
+author
+buffer
+buffer
+subject
+buffer
+at
+buffer
+datestr
+buffer
+actionstr
+getactionstr
+actiontype
+buffer
+action
+buffer
+actionstr
+buffer
+actiontype
+nsmsgfilteraction
+movetofolder
+nsxpidlcstring
+actionfolderuri
+afilteraction
+gettargetfolderuri
+gettercopies
+actionfolderuri
+buffer
+actionfolderuri
+get
+buffer
+actiontype
+nsmsgfilteraction
+movetofolder
+nsxpidlcstring
+msgid
+amsghdr
+getmessageid
+gettercopies
+msgid
+buffer
+id
+buffer
+msgid
+buffer
+pruint
+writecount
+rv
+logstream
+write
+logentrystarttag
+logentrystarttaglen
+writecount
+nsensuresuccess
+rv
+rv
+nsassertion
+writecount
+logentrystarttaglen
+failed
+to
+write
+out
+start
+log
+tag
+escapedbuffer
+nsescapehtml
+buffer
+get
+escapedbuffer
+nserroroutofmemory
+pruint
+escapedbufferlen
+strlen
+escapedbuffer
+rv
+logstream
+write
+escapedbuffer
+escapedbufferlen
+writecount
+prfree
+escapedbuffer
+nsensuresuccess
+rv
+rv
+nsassertion
+writecount
+escapedbufferlen
+failed
+to
+write
+out
+log
+hit
+rv
+logstream
+write
+logentryendtag
+logentryendtaglen
+writecount
+nsensuresuccess
+rv
+rv
+nsassertion
+writecount
+logentryendtaglen
+failed
+to
+write
+out
+end
+log
+tag
+nsok
+nsimethodimp
+nsmsgfilter
+matchhdr
+nsimsgdbhdr
+msghdr
+nsimsgfolder
+folder
+nsimsgdatabase
+db
+headers
+pruint
+headerssize
+prbool
+presult
+nsmsgsearchscopeterm
+scope
+nsmsgsearchscopeterm
+nsnull
+nsmsgsearchscope
+offlinemail
+folder
+scope
+nserroroutofmemory
+nsxpidlcstring
+foldercharset
+folder
+getcharset
+gettercopies
+foldercharset
+nsresult
+rv
+nsmsgsearchofflinemail
+matchtermsforfilter
+msghdr
+mtermlist
+foldercharset
+get
+scope
+db
+headers
+headerssize
+presult
+scope
+rv
+nsmsgfilter
+setfilterlist
+nsimsgfilterlist
+filterlist
+mfilterlist
+filterlist
+nsresult
+nsmsgfilter
+getfilterlist
+nsimsgfilterlist
+aresult
+nsensureargpointer
+aresult
+nsifaddref
+aresult
+mfilterlist
+nsok
+nsmsgfilter
+setfilterscript
+nscstring
+filename
+mscriptfilename
+filename
+nsresult
+nsmsgfilter
+convertmovetofoldervalue
+nsimsgruleaction
+filteraction
+nscstring
+movevalue
+nsensureargpointer
+filteraction
+print
+filterversion
+kfileversion
+mfilterlist
+mfilterlist
+getversion
+filterversion
+filterversion
+kbetaversion
+nscomptr
+nsiimportservice
+impsvc
+dogetservice
+nsimportservicecontractid
+nsassertion
+impsvc
+cannot
+get
+importservice
+nscomptr
+nsimsgfolder
+rootfolder
+nsxpidlcstring
+folderuri
+mfilterlist
+getfolder
+getteraddrefs
+rootfolder
+movevalue
+find
+kimapprefix
+print
+prefixlen
+plstrlen
+kimapprefix
+nscautostring
+originalserverpath
+movevalue
+mid
+originalserverpath
+prefixlen
+movevalue
+length
+prefixlen
+filterversion
+kversion
+impsvc
+nsautostring
+unicodestr
+impsvc
+systemstringtounicode
+originalserverpath
+get
+unicodestr
+utfnewname
+createutfconvertedstringfromunicode
+unicodestr
+get
+originalserverpath
+assign
+utfnewname
+nscrt
+free
+utfnewname
+nscomptr
+nsifolder
+destifolder
+rootfolder
+rootfolder
+findsubfolder
+originalserverpath
+get
+getteraddrefs
+destifolder
+destifolder
+nscomptr
+nsimsgfolder
+msgfolder
+msgfolder
+doqueryinterface
+destifolder
+destifolder
+geturi
+gettercopies
+folderuri
+filteraction
+settargetfolderuri
+folderuri
+movevalue
+assign
+folderuri
+filteraction
+settargetfolderuri
+movevalue
+get
+nsresult
+rv
+nsok
+nscomptr
+nsifolder
+localmailroot
+rootfolder
+geturi
+gettercopies
+folderuri
+nscrt
+strncmp
+imap
+folderuri
+localmailroot
+rootfolder
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nssucceeded
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+accountmanager
+getlocalfoldersserver
+getteraddrefs
+server
+nssucceeded
+rv
+server
+rv
+server
+getrootfolder
+getteraddrefs
+localmailroot
+nssucceeded
+rv
+localmailroot
+nsxpidlcstring
+localrooturi
+nscomptr
+nsimsgfolder
+destimsgfolder
+nscomptr
+nsimsgfolder
+localmailrootmsgfolder
+doqueryinterface
+localmailroot
+localmailroot
+geturi
+gettercopies
+localrooturi
+nscstring
+destfolderuri
+destfolderuri
+assign
+localrooturi
+movevalue
+replacesubstring
+sbd
+defined
+xpmac
+defined
+xpmacosx
+unescapedmovevalue
+tonewcstring
+movevalue
+nsunescape
+unescapedmovevalue
+movevalue
+assign
+unescapedmovevalue
+nscrt
+free
+unescapedmovevalue
+endif
+destfolderuri
+append
+filterversion
+kversion
+impsvc
+nsautostring
+unicodestr
+impsvc
+systemstringtounicode
+movevalue
+get
+unicodestr
+nsxpidlcstring
+escapedname
+rv
+nsmsgescapeencodeurlpath
+unicodestr
+get
+gettercopies
+escapedname
+nssucceeded
+rv
+escapedname
+movevalue
+assign
+escapedname
+get
+destfolderuri
+append
+movevalue
+localmailrootmsgfolder
+getchildwithuri
+destfolderuri
+get
+prtrue
+prfalse
+getteraddrefs
+destimsgfolder
+destimsgfolder
+destimsgfolder
+geturi
+gettercopies
+folderuri
+filteraction
+settargetfolderuri
+folderuri
+movevalue
+assign
+folderuri
+filteraction
+settargetfolderuri
+movevalue
+get
+nsok
+nsresult
+nsmsgfilter
+savetotextfile
+nsiofilestream
+astream
+nsensureargpointer
+astream
+munparseable
+munparsedbuffer
+trim
+kwhitespace
+prtrue
+prfalse
+astream
+munparsedbuffer
+get
+nsok
+nsresult
+err
+mfilterlist
+writewstrattr
+nsimsgfilterlist
+attribname
+mfiltername
+get
+astream
+err
+mfilterlist
+writeboolattr
+nsimsgfilterlist
+attribenabled
+menabled
+astream
+err
+mfilterlist
+writestrattr
+nsimsgfilterlist
+attribdescription
+mdescription
+get
+astream
+err
+mfilterlist
+writeintattr
+nsimsgfilterlist
+attribtype
+mtype
+astream
+isscript
+err
+mfilterlist
+writestrattr
+nsimsgfilterlist
+attribscriptfile
+mscriptfilename
+get
+astream
+err
+saverule
+astream
+err
+nsresult
+nsmsgfilter
+saverule
+nsiofilestream
+astream
+nsresult
+err
+nsok
+nscomptr
+nsimsgfilterlist
+filterlist
+getfilterlist
+getteraddrefs
+filterlist
+nscautostring
+actionfilingstr
+pruint
+numactions
+err
+mactionlist
+count
+numactions
+nsensuresuccess
+err
+err
+pruint
+index
+index
+numactions
+index
+nscomptr
+nsimsgruleaction
+action
+err
+mactionlist
+queryelementat
+index
+nsgetiid
+nsimsgruleaction
+getteraddrefs
+action
+action
+nsmsgruleactiontype
+actiontype
+action
+gettype
+actiontype
+getactionfilingstr
+actiontype
+actionfilingstr
+err
+filterlist
+writestrattr
+nsimsgfilterlist
+attribaction
+actionfilingstr
+get
+astream
+nsensuresuccess
+err
+err
+actiontype
+nsmsgfilteraction
+movetofolder
+nsxpidlcstring
+imaptargetstring
+action
+gettargetfolderuri
+gettercopies
+imaptargetstring
+err
+filterlist
+writestrattr
+nsimsgfilterlist
+attribactionvalue
+imaptargetstring
+get
+astream
+nsmsgfilteraction
+changepriority
+nsmsgpriorityvalue
+priorityvalue
+action
+getpriority
+priorityvalue
+nsautostring
+priority
+nsmsggetuntranslatedpriorityname
+priorityvalue
+priority
+nscautostring
+cstr
+cstr
+assignwithconversion
+priority
+err
+filterlist
+writestrattr
+nsimsgfilterlist
+attribactionvalue
+cstr
+get
+astream
+nsmsgfilteraction
+label
+nsmsglabelvalue
+label
+action
+getlabel
+label
+err
+filterlist
+writeintattr
+nsimsgfilterlist
+attribactionvalue
+label
+astream
+pruint
+searchindex
+nscautostring
+condition
+pruint
+count
+mtermlist
+count
+count
+searchindex
+searchindex
+count
+nssucceeded
+err
+searchindex
+nscautostring
+stream
+nscomptr
+nsimsgsearchterm
+term
+mtermlist
+queryelementat
+searchindex
+nsgetiid
+nsimsgsearchterm
+getteraddrefs
+term
+term
+condition
+length
+condition
+prbool
+booleanand
+term
+getbooleanand
+booleanand
+booleanand
+condition
+and
+condition
+or
+nsresult
+searcherror
+term
+enstreamnew
+stream
+nsfailed
+searcherror
+err
+searcherror
+condition
+stream
+condition
+nssucceeded
+err
+err
+filterlist
+writestrattr
+nsimsgfilterlist
+attribcondition
+condition
+get
+astream
+err
+ruleactionstableentry
+nsmsgruleactiontype
+action
+nsmsgfiltertypetype
+supportedtypes
+print
+xpstrindex
+actionfilingstr
+ruleactionstableentry
+ruleactionstable
+nsmsgfilteraction
+movetofolder
+nsmsgfiltertype
+inbox
+move
+to
+folder
+nsmsgfilteraction
+changepriority
+nsmsgfiltertype
+inbox
+change
+priority
+nsmsgfilteraction
+delete
+nsmsgfiltertype
+all
+delete
+nsmsgfilteraction
+markread
+nsmsgfiltertype
+all
+mark
+read
+nsmsgfilteraction
+killthread
+nsmsgfiltertype
+all
+ignore
+thread
+nsmsgfilteraction
+watchthread
+nsmsgfiltertype
+all
+watch
+thread
+nsmsgfilteraction
+markflagged
+nsmsgfiltertype
+all
+mark
+flagged
+nsmsgfilteraction
+label
+nsmsgfiltertype
+all
+label
+nsmsgfilteraction
+reply
+nsmsgfiltertype
+all
+reply
+nsmsgfilteraction
+forward
+nsmsgfiltertype
+all
+forward
+nsmsgfilteraction
+stopexecution
+nsmsgfiltertype
+all
+stop
+execution
+nsmsgfilter
+getactionstr
+nsmsgruleactiontype
+action
+numactions
+ruleactionstable
+ruleactionstable
+numactions
+action
+ruleactionstable
+action
+ruleactionstable
+actionfilingstr
+nsresult
+nsmsgfilter
+getactionfilingstr
+nsmsgruleactiontype
+action
+nscstring
+actionstr
+numactions
+ruleactionstable
+ruleactionstable
+numactions
+action
+ruleactionstable
+action
+actionstr
+ruleactionstable
+actionfilingstr
+nsok
+nserrorinvalidarg
+nsmsgruleactiontype
+nsmsgfilter
+getactionforfilingstr
+nscstring
+actionstr
+numactions
+ruleactionstable
+ruleactionstable
+numactions
+actionstr
+equals
+ruleactionstable
+actionfilingstr
+ruleactionstable
+action
+nsmsgfilteraction
+none
+print
+nsmsgfilter
+getversion
+mfilterlist
+print
+version
+mfilterlist
+getversion
+version
+version
+ifdef
+debug
+nsmsgfilter
+dump
+nscstring
+copyucstoascii
+mfiltername
+printf
+filter
+type
+desc
+get
+mtype
+mdescription
+get
+endif
\ No newline at end of file
@@ -0,0 +1,481 @@
+nsmsgfilterdatasource
+nsmsgrdfutils
+nsenumeratorutils
+nsimsgfilter
+nsimsgfilterlist
+nsxpidlstring
+nsreadableutils
+define
+ncrdfenabled
+ncnamespaceuri
+enabled
+nsimplisupports
+nsmsgfilterdatasource
+nsirdfdatasource
+nsrefcnt
+nsmsgfilterdatasource
+mglobalrefcount
+nscomptr
+nsirdfresource
+nsmsgfilterdatasource
+kncchild
+nscomptr
+nsirdfresource
+nsmsgfilterdatasource
+kncname
+nscomptr
+nsirdfresource
+nsmsgfilterdatasource
+kncenabled
+nscomptr
+nsirdfliteral
+nsmsgfilterdatasource
+ktrueliteral
+nscomptr
+nsisupportsarray
+nsmsgfilterdatasource
+mfilterlistarcsout
+nscomptr
+nsisupportsarray
+nsmsgfilterdatasource
+mfilterarcsout
+nsmsgfilterdatasource
+nsmsgfilterdatasource
+mglobalrefcount
+initglobalobjects
+getrdfservice
+nsmsgfilterdatasource
+nsmsgfilterdatasource
+mglobalrefcount
+mglobalrefcount
+cleanupglobalobjects
+nsresult
+nsmsgfilterdatasource
+cleanupglobalobjects
+mfilterlistarcsout
+nsnull
+mfilterarcsout
+nsnull
+kncchild
+nsnull
+kncname
+nsnull
+kncenabled
+nsnull
+ktrueliteral
+nsnull
+nsok
+nsresult
+nsmsgfilterdatasource
+initglobalobjects
+nsirdfservice
+rdf
+rdf
+getliteral
+nsliteralstring
+get
+getteraddrefs
+ktrueliteral
+rdf
+getresource
+nsliteralcstring
+ncrdfchild
+getteraddrefs
+kncchild
+rdf
+getresource
+nsliteralcstring
+ncrdfname
+getteraddrefs
+kncname
+rdf
+getresource
+nsliteralcstring
+ncrdfenabled
+getteraddrefs
+kncenabled
+nsnewisupportsarray
+getteraddrefs
+mfilterlistarcsout
+mfilterlistarcsout
+appendelement
+kncchild
+nsnewisupportsarray
+getteraddrefs
+mfilterarcsout
+mfilterarcsout
+appendelement
+kncname
+mfilterarcsout
+appendelement
+kncenabled
+nsok
+nsimethodimp
+nsmsgfilterdatasource
+gettargets
+nsirdfresource
+asource
+nsirdfresource
+aproperty
+prbool
+atruthvalue
+nsisimpleenumerator
+aresult
+nsresult
+rv
+nscomptr
+nsisupportsarray
+resourcelist
+rv
+nsnewisupportsarray
+getteraddrefs
+resourcelist
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupports
+filterdelegate
+rv
+asource
+getdelegate
+filter
+nsgetiid
+nsisupports
+getteraddrefs
+filterdelegate
+nsfailed
+rv
+nssingletonenumerator
+cursor
+nssingletonenumerator
+nsnull
+nsensuretrue
+cursor
+nserroroutofmemory
+aresult
+cursor
+nsaddref
+aresult
+nsok
+nscomptr
+nsimsgfilterlist
+filterlist
+doqueryinterface
+filterdelegate
+rv
+nssucceeded
+rv
+rv
+getfilterlisttargets
+filterlist
+asource
+aproperty
+atruthvalue
+resourcelist
+nscomptr
+nsimsgfilter
+filter
+doqueryinterface
+filterdelegate
+rv
+nssucceeded
+rv
+nswarning
+arclabelsout
+unknown
+filter
+delegate
+nsarrayenumerator
+cursor
+nsarrayenumerator
+resourcelist
+nsensuretrue
+cursor
+nserroroutofmemory
+aresult
+cursor
+nsaddref
+aresult
+nsok
+nsimethodimp
+nsmsgfilterdatasource
+gettarget
+nsirdfresource
+asource
+nsirdfresource
+aproperty
+prbool
+atruthvalue
+nsirdfnode
+aresult
+nsresult
+rv
+aresult
+nsnull
+nscomptr
+nsisupports
+filterdelegate
+asource
+getdelegate
+filter
+nsgetiid
+nsisupports
+getteraddrefs
+filterdelegate
+nscomptr
+nsimsgfilterlist
+filterlist
+doqueryinterface
+filterdelegate
+rv
+nssucceeded
+rv
+rv
+getfilterlisttarget
+filterlist
+aproperty
+atruthvalue
+aresult
+nscomptr
+nsimsgfilter
+filter
+doqueryinterface
+filterdelegate
+rv
+nssucceeded
+rv
+rv
+getfiltertarget
+filter
+aproperty
+atruthvalue
+aresult
+nswarning
+gettarget
+unknown
+filter
+delegate
+aresult
+nsok
+nsrdfnovalue
+nsimethodimp
+nsmsgfilterdatasource
+arclabelsout
+nsirdfresource
+asource
+nsisimpleenumerator
+aresult
+nsresult
+rv
+nscomptr
+nsisupportsarray
+arcs
+nscomptr
+nsisupports
+filterdelegate
+rv
+asource
+getdelegate
+filter
+nsgetiid
+nsisupports
+getteraddrefs
+filterdelegate
+nsfailed
+rv
+nsrdfnovalue
+nscomptr
+nsimsgfilterlist
+filterlist
+doqueryinterface
+filterdelegate
+rv
+nssucceeded
+rv
+arcs
+mfilterlistarcsout
+nscomptr
+nsimsgfilter
+filter
+doqueryinterface
+filterdelegate
+rv
+nssucceeded
+rv
+arcs
+mfilterarcsout
+nswarning
+gettargets
+unknown
+filter
+delegate
+arcs
+aresult
+nsnull
+nsrdfnovalue
+nsarrayenumerator
+enumerator
+nsarrayenumerator
+arcs
+nsensuretrue
+enumerator
+nserroroutofmemory
+aresult
+enumerator
+nsaddref
+aresult
+nsok
+nsresult
+nsmsgfilterdatasource
+getfilterlisttargets
+nsimsgfilterlist
+afilterlist
+nsirdfresource
+asource
+nsirdfresource
+aproperty
+prbool
+atruthvalue
+nsisupportsarray
+aresult
+nsresult
+rv
+filterlisturi
+asource
+getvalueconst
+filterlisturi
+nscautostring
+filteruri
+filterlisturi
+filteruri
+append
+filtername
+print
+basefilterurilength
+filteruri
+length
+pruint
+filtercount
+rv
+afilterlist
+getfiltercount
+filtercount
+nsfailed
+rv
+rv
+pruint
+filtercount
+nscomptr
+nsimsgfilter
+filter
+rv
+afilterlist
+getfilterat
+getteraddrefs
+filter
+nsfailed
+rv
+prbool
+istemporary
+rv
+filter
+gettemporary
+istemporary
+nsassertion
+nssucceeded
+rv
+gettemporary
+failed
+istemporary
+nsxpidlstring
+filtername
+rv
+filter
+getfiltername
+gettercopies
+filtername
+nsfailed
+rv
+rv
+nsautostring
+filterstring
+filtername
+utfname
+tonewutfstring
+filterstring
+filteruri
+append
+utfname
+recycle
+utfname
+nscomptr
+nsirdfresource
+filterresource
+rv
+getrdfservice
+getresource
+filteruri
+getteraddrefs
+filterresource
+nssucceeded
+rv
+aresult
+appendelement
+filterresource
+filteruri
+truncate
+basefilterurilength
+nsok
+nsresult
+nsmsgfilterdatasource
+getfilterlisttarget
+nsimsgfilterlist
+afilterlist
+nsirdfresource
+aproperty
+prbool
+atruthvalue
+nsirdfnode
+aresult
+nserrornotimplemented
+nsresult
+nsmsgfilterdatasource
+getfiltertarget
+nsimsgfilter
+afilter
+nsirdfresource
+aproperty
+prbool
+atruthvalue
+nsirdfnode
+aresult
+aproperty
+kncname
+get
+nsxpidlstring
+filtername
+afilter
+getfiltername
+gettercopies
+filtername
+createnode
+prunichar
+filtername
+aresult
+getrdfservice
+aproperty
+kncenabled
+get
+prbool
+enabled
+afilter
+getenabled
+enabled
+enabled
+aresult
+ktrueliteral
+nsaddref
+aresult
+nsok
+nsrdfnovalue
\ No newline at end of file
@@ -0,0 +1,247 @@
+nsmsgfilterdelegatefactory
+nscomptr
+nsxpidlstring
+nstextformatter
+nsirdfservice
+nsirdfresource
+nsrdfcid
+nsimsgfolder
+nsimsgfilter
+nsimsgfilterlist
+nsdefinecid
+krdfservicecid
+nsrdfservicecid
+prunichar
+unicodeformatter
+prunichar
+prunichar
+prunichar
+nsimplisupports
+nsmsgfilterdelegatefactory
+nsirdfdelegatefactory
+nsmsgfilterdelegatefactory
+nsmsgfilterdelegatefactory
+nsmsgfilterdelegatefactory
+nsmsgfilterdelegatefactory
+nsimethodimp
+nsmsgfilterdelegatefactory
+createdelegate
+nsirdfresource
+aouter
+akey
+nsiid
+aiid
+aresult
+nsresult
+rv
+aresult
+nsnull
+uri
+aouter
+getvalueconst
+uri
+nscautostring
+uristr
+uri
+nscomptr
+nsisupports
+resultsupports
+uristr
+find
+filtername
+nscomptr
+nsimsgfilter
+filter
+rv
+getfilterdelegate
+aouter
+getteraddrefs
+filter
+nssucceeded
+rv
+resultsupports
+filter
+nscomptr
+nsimsgfilterlist
+filterlist
+rv
+getfilterlistdelegate
+aouter
+getteraddrefs
+filterlist
+nssucceeded
+rv
+resultsupports
+filterlist
+resultsupports
+resultsupports
+queryinterface
+aiid
+aresult
+nserrorfailure
+nsresult
+nsmsgfilterdelegatefactory
+getfilterlistdelegate
+nsirdfresource
+aouter
+nsimsgfilterlist
+aresult
+nsresult
+rv
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+aouter
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgfilterlist
+filterlist
+rv
+folder
+getfilterlist
+nsnull
+getteraddrefs
+filterlist
+nsensuresuccess
+rv
+rv
+aresult
+filterlist
+nsifaddref
+aresult
+nsok
+nsresult
+nsmsgfilterdelegatefactory
+getfilterdelegate
+nsirdfresource
+aouter
+nsimsgfilter
+aresult
+nsresult
+rv
+nsxpidlcstring
+uri
+rv
+aouter
+getvalue
+gettercopies
+uri
+nsfailed
+rv
+rv
+print
+separatorposition
+filtertag
+uri
+filtertag
+filtertag
+separatorposition
+filtertag
+filtertag
+nserrorfailure
+filtername
+getfiltername
+filtertag
+nscomptr
+nsimsgfilterlist
+filterlist
+rv
+getfilterlist
+uri
+separatorposition
+getteraddrefs
+filterlist
+nsautostring
+filterstring
+prunichar
+unicodestring
+nstextformatter
+smprintf
+unicodeformatter
+filtername
+nsensuretrue
+unicodestring
+nserroroutofmemory
+filterstring
+assign
+unicodestring
+nstextformatter
+smprintffree
+unicodestring
+nscomptr
+nsimsgfilter
+filter
+rv
+filterlist
+getfilternamed
+filterstring
+get
+getteraddrefs
+filter
+nsfailed
+rv
+rv
+aresult
+filter
+nsifaddref
+aresult
+nsok
+nsmsgfilterdelegatefactory
+getfiltername
+filtertag
+nscrt
+strncmp
+filtertag
+msgfiltertag
+msgfiltertaglength
+nsnull
+filternamestr
+filtertag
+msgfiltertaglength
+filternamestr
+nsresult
+nsmsgfilterdelegatefactory
+getfilterlist
+auri
+print
+atagposition
+nsimsgfilterlist
+aresult
+nsresult
+rv
+nscautostring
+folderuri
+auri
+folderuri
+truncate
+atagposition
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+krdfservicecid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+filterlistresource
+rdf
+getresource
+folderuri
+getteraddrefs
+filterlistresource
+nsensuresuccess
+rv
+rv
+filterlistresource
+getdelegate
+filter
+nsgetiid
+nsimsgfilterlist
+aresult
\ No newline at end of file
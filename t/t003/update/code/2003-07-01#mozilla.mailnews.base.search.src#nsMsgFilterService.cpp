@@ -0,0 +1,1276 @@
+msgcore
+nsmsgfilterservice
+nsfilestream
+nsmsgfilterlist
+nsspecialsystemdirectory
+nsiprompt
+nsidocshell
+nsimsgwindow
+nsiinterfacerequestor
+nsiinterfacerequestorutils
+nsistringbundle
+nsimsgsearchnotify
+nsiurllistener
+nsimsgcopyservicelistener
+nsimsglocalmailfolder
+nsimsgdatabase
+nsimsghdr
+nsidbfolderinfo
+nsirdfservice
+nsmsgbasecid
+nsimsgcopyservice
+nsioutputstream
+nsimplisupports
+nsmsgfilterservice
+nsimsgfilterservice
+nsmsgfilterservice
+nsmsgfilterservice
+nsmsgfilterservice
+nsmsgfilterservice
+nsimethodimp
+nsmsgfilterservice
+openfilterlist
+nsifilespec
+filterfile
+nsimsgfolder
+rootfolder
+nsimsgwindow
+amsgwindow
+nsimsgfilterlist
+resultfilterlist
+nsresult
+ret
+nsok
+nsfilespec
+filterspec
+filterfile
+getfilespec
+filterspec
+nsiofilestream
+filestream
+nsiofilestream
+filterspec
+filestream
+nserroroutofmemory
+nsmsgfilterlist
+filterlist
+nsmsgfilterlist
+filterlist
+nserroroutofmemory
+nsaddref
+filterlist
+filterlist
+setfolder
+rootfolder
+filterlist
+setdefaultfile
+filterfile
+pruint
+size
+ret
+filterfile
+getfilesize
+size
+nssucceeded
+ret
+size
+ret
+filterlist
+loadtextfilters
+filestream
+filestream
+close
+filestream
+filestream
+nsnull
+nssucceeded
+ret
+resultfilterlist
+filterlist
+print
+version
+filterlist
+getversion
+version
+version
+kfileversion
+savefilterlist
+filterlist
+filterfile
+nsrelease
+filterlist
+ret
+nsmsgfilterparseerror
+amsgwindow
+ret
+backupfilterfile
+filterfile
+amsgwindow
+nsensuresuccess
+ret
+ret
+ret
+filterfile
+truncate
+nsensuresuccess
+ret
+ret
+openfilterlist
+filterfile
+rootfolder
+amsgwindow
+resultfilterlist
+ret
+nsmsgcustomheadersoverflow
+amsgwindow
+throwalertmsg
+filtercustomheaderoverflow
+amsgwindow
+ret
+nsmsginvalidcustomheader
+amsgwindow
+throwalertmsg
+invalidcustomheader
+amsgwindow
+ret
+nsimethodimp
+nsmsgfilterservice
+closefilterlist
+nsimsgfilterlist
+filterlist
+nsok
+nsimethodimp
+nsmsgfilterservice
+savefilterlist
+nsimsgfilterlist
+filterlist
+nsifilespec
+filterfile
+nsresult
+ret
+nsok
+nscomptr
+nsifilespec
+tmpfiltersfile
+nscomptr
+nsifilespec
+realfiltersfile
+nscomptr
+nsifilespec
+parentdir
+nsspecialsystemdirectory
+tmpfile
+nsspecialsystemdirectory
+ostemporarydirectory
+tmpfile
+tmprules
+dat
+ret
+nsnewfilespecwithspec
+tmpfile
+getteraddrefs
+tmpfiltersfile
+nsassertion
+nssucceeded
+ret
+writing
+filters
+file
+failed
+to
+append
+filename
+nsfailed
+ret
+ret
+ret
+tmpfiltersfile
+makeunique
+nsensuresuccess
+ret
+ret
+nsfilespec
+tmpfilespec
+tmpfiltersfile
+getfilespec
+tmpfilespec
+nsiofilestream
+tmpfilestream
+nsnull
+nssucceeded
+ret
+ret
+filterfile
+getparent
+getteraddrefs
+parentdir
+nssucceeded
+ret
+tmpfilestream
+nsiofilestream
+tmpfilespec
+tmpfilestream
+nserroroutofmemory
+ret
+filterlist
+savetofile
+tmpfilestream
+tmpfilestream
+close
+tmpfilestream
+tmpfilestream
+nsnull
+nssucceeded
+ret
+ret
+tmpfiltersfile
+copytodir
+parentdir
+nssucceeded
+ret
+filterfile
+delete
+prfalse
+nsxpidlcstring
+tmpfilename
+tmpfiltersfile
+getleafname
+gettercopies
+tmpfilename
+parentdir
+appendrelativeunixpath
+tmpfilename
+get
+nsxpidlcstring
+finalleafname
+filterfile
+getleafname
+gettercopies
+finalleafname
+finalleafname
+isempty
+parentdir
+rename
+finalleafname
+parentdir
+rename
+msgfilterrules
+dat
+tmpfiltersfile
+delete
+prfalse
+nsassertion
+nssucceeded
+ret
+error
+opening
+saving
+filter
+list
+ret
+nsimethodimp
+nsmsgfilterservice
+cancelfilterlist
+nsimsgfilterlist
+filterlist
+nserrornotimplemented
+nsresult
+nsmsgfilterservice
+backupfilterfile
+nsifilespec
+afilterfile
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+alertbackingupfilterfile
+amsgwindow
+afilterfile
+closestream
+nscomptr
+nsilocalfile
+localfilterfile
+nsfilespec
+filterfilespec
+afilterfile
+getfilespec
+filterfilespec
+rv
+nsfilespectoifile
+filterfilespec
+getteraddrefs
+localfilterfile
+nsensuresuccess
+rv
+rv
+nscomptr
+nsilocalfile
+localparentdir
+nscomptr
+nsifilespec
+parentdir
+rv
+afilterfile
+getparent
+getteraddrefs
+parentdir
+nsensuresuccess
+rv
+rv
+nsfilespec
+parentdirspec
+parentdir
+getfilespec
+parentdirspec
+rv
+nsfilespectoifile
+parentdirspec
+getteraddrefs
+localparentdir
+nsensuresuccess
+rv
+rv
+nscomptr
+nsilocalfile
+backupfile
+rv
+nsfilespectoifile
+parentdirspec
+getteraddrefs
+backupfile
+nsensuresuccess
+rv
+rv
+backupfile
+appendnative
+nsliteralcstring
+rulesbackup
+dat
+prbool
+exists
+backupfile
+exists
+exists
+exists
+backupfile
+remove
+prfalse
+localfilterfile
+copytonative
+localparentdir
+nsliteralcstring
+rulesbackup
+dat
+nsresult
+nsmsgfilterservice
+alertbackingupfilterfile
+nsimsgwindow
+amsgwindow
+throwalertmsg
+filterlistbackupmsg
+amsgwindow
+nsresult
+nsmsgfilterservice
+getstringfrombundle
+amsgname
+prunichar
+aresult
+nsresult
+rv
+nsok
+nsensureargpointer
+aresult
+nscomptr
+nsistringbundle
+bundle
+rv
+getfilterstringbundle
+getteraddrefs
+bundle
+nssucceeded
+rv
+bundle
+rv
+bundle
+getstringfromname
+nsconvertasciitoucs
+amsgname
+get
+aresult
+rv
+nsresult
+nsmsgfilterservice
+getfilterstringbundle
+nsistringbundle
+abundle
+nsresult
+rv
+nsok
+nsensureargpointer
+abundle
+nscomptr
+nsistringbundleservice
+bundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nscomptr
+nsistringbundle
+bundle
+bundleservice
+nssucceeded
+rv
+bundleservice
+createbundle
+messenger
+locale
+filter
+properties
+getteraddrefs
+bundle
+nsifaddref
+abundle
+bundle
+rv
+nsresult
+nsmsgfilterservice
+throwalertmsg
+amsgname
+nsimsgwindow
+amsgwindow
+nsxpidlstring
+alertstring
+nsresult
+rv
+getstringfrombundle
+amsgname
+gettercopies
+alertstring
+nssucceeded
+rv
+alertstring
+amsgwindow
+nscomptr
+nsidocshell
+docshell
+amsgwindow
+getrootdocshell
+getteraddrefs
+docshell
+docshell
+nscomptr
+nsiprompt
+dialog
+dogetinterface
+docshell
+dialog
+alertstring
+dialog
+alert
+nsnull
+alertstring
+rv
+nsmsgfilterafterthefact
+nsiurllistener
+nsimsgsearchnotify
+nsimsgcopyservicelistener
+nsmsgfilterafterthefact
+nsimsgwindow
+amsgwindow
+nsimsgfilterlist
+afilterlist
+nsisupportsarray
+afolderlist
+nsmsgfilterafterthefact
+nsdeclisupports
+nsdeclnsiurllistener
+nsdeclnsimsgsearchnotify
+nsdeclnsimsgcopyservicelistener
+nsresult
+advancetonextfolder
+nsresult
+runnextfilter
+nsresult
+applyfilter
+nsresult
+onendexecution
+nsresult
+executionstatus
+prbool
+continueexecutionprompt
+nsresult
+displayconfirmationprompt
+nsimsgwindow
+msgwindow
+prunichar
+confirmstring
+prbool
+confirmed
+nscomptr
+nsimsgwindow
+mmsgwindow
+nscomptr
+nsimsgfilterlist
+mfilters
+nscomptr
+nsisupportsarray
+mfolders
+nscomptr
+nsimsgfolder
+mcurfolder
+nscomptr
+nsimsgdatabase
+mcurfolderdb
+nscomptr
+nsimsgfilter
+mcurfilter
+pruint
+mcurfilterindex
+pruint
+mcurfolderindex
+pruint
+mnumfilters
+pruint
+mnumfolders
+nsmsgkeyarray
+msearchhits
+nscomptr
+nsisupportsarray
+msearchhithdrs
+nscomptr
+nsimsgsearchsession
+msearchsession
+nsimplisupports
+nsmsgfilterafterthefact
+nsiurllistener
+nsimsgsearchnotify
+nsimsgcopyservicelistener
+nsmsgfilterafterthefact
+nsmsgfilterafterthefact
+nsimsgwindow
+amsgwindow
+nsimsgfilterlist
+afilterlist
+nsisupportsarray
+afolderlist
+mcurfilterindex
+mcurfolderindex
+mmsgwindow
+amsgwindow
+mfilters
+afilterlist
+mfolders
+afolderlist
+mfilters
+getfiltercount
+mnumfilters
+mfolders
+count
+mnumfolders
+nsaddref
+nsnewisupportsarray
+getteraddrefs
+msearchhithdrs
+nsmsgfilterafterthefact
+nsmsgfilterafterthefact
+nsresult
+nsmsgfilterafterthefact
+onendexecution
+nsresult
+executionstatus
+msearchsession
+msearchsession
+unregisterlistener
+mfilters
+mfilters
+flushlogifnecessary
+release
+executionstatus
+nsresult
+nsmsgfilterafterthefact
+runnextfilter
+nsresult
+rv
+mcurfilterindex
+mnumfilters
+advancetonextfolder
+rv
+mfilters
+getfilterat
+mcurfilterindex
+getteraddrefs
+mcurfilter
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupportsarray
+searchterms
+rv
+mcurfilter
+getsearchterms
+getteraddrefs
+searchterms
+nsensuresuccess
+rv
+rv
+msearchsession
+msearchsession
+unregisterlistener
+msearchsession
+docreateinstance
+nsmsgsearchsessioncontractid
+rv
+nsensuresuccess
+rv
+rv
+pruint
+termcount
+searchterms
+count
+termcount
+pruint
+termindex
+termindex
+termcount
+termindex
+nscomptr
+nsimsgsearchterm
+term
+rv
+searchterms
+queryelementat
+termindex
+nsgetiid
+nsimsgsearchterm
+getteraddrefs
+term
+nsensuresuccess
+rv
+rv
+rv
+msearchsession
+appendterm
+term
+nsensuresuccess
+rv
+rv
+msearchsession
+registerlistener
+nscomptr
+nsimsgincomingserver
+incomingserver
+rv
+mcurfolder
+getserver
+getteraddrefs
+incomingserver
+nsensuresuccess
+rv
+rv
+nsmsgsearchscopevalue
+searchscope
+incomingserver
+getsearchscope
+searchscope
+rv
+msearchsession
+addscopeterm
+searchscope
+mcurfolder
+nsensuresuccess
+rv
+rv
+msearchsession
+search
+mmsgwindow
+nsresult
+nsmsgfilterafterthefact
+advancetonextfolder
+mcurfolderindex
+mnumfolders
+onendexecution
+nsok
+nsresult
+rv
+mfolders
+queryelementat
+mcurfolderindex
+nsgetiid
+nsimsgfolder
+getteraddrefs
+mcurfolder
+nsensuresuccess
+rv
+rv
+nscomptr
+nsidbfolderinfo
+dbfolderinfo
+rv
+mcurfolder
+getdbfolderinfoanddb
+getteraddrefs
+dbfolderinfo
+getteraddrefs
+mcurfolderdb
+rv
+nsmsgerrorfoldersummarymissing
+rv
+nsmsgerrorfoldersummaryoutofdate
+nscomptr
+nsimsglocalmailfolder
+localfolder
+doqueryinterface
+mcurfolder
+rv
+nssucceeded
+rv
+localfolder
+localfolder
+parsefolder
+mmsgwindow
+runnextfilter
+nsimethodimp
+nsmsgfilterafterthefact
+onstartrunningurl
+nsiuri
+aurl
+nsok
+nsimethodimp
+nsmsgfilterafterthefact
+onstoprunningurl
+nsiuri
+aurl
+nsresult
+aexitcode
+prbool
+continueexecution
+nssucceeded
+aexitcode
+continueexecution
+continueexecution
+continueexecutionprompt
+continueexecution
+runnextfilter
+onendexecution
+aexitcode
+nsimethodimp
+nsmsgfilterafterthefact
+onsearchhit
+nsimsgdbhdr
+header
+nsimsgfolder
+folder
+nsensureargpointer
+header
+nsmsgkey
+msgkey
+header
+getmessagekey
+msgkey
+msearchhits
+add
+msgkey
+msearchhithdrs
+appendelement
+header
+nsok
+nsimethodimp
+nsmsgfilterafterthefact
+onsearchdone
+nsresult
+status
+nsresult
+rv
+status
+prbool
+continueexecution
+nssucceeded
+status
+continueexecution
+continueexecution
+continueexecutionprompt
+continueexecution
+msearchhits
+getsize
+applyfilter
+runnextfilter
+onendexecution
+rv
+nsimethodimp
+nsmsgfilterafterthefact
+onnewsearch
+msearchhits
+removeall
+msearchhithdrs
+clear
+nsok
+nsresult
+nsmsgfilterafterthefact
+applyfilter
+nsresult
+rv
+nsok
+mcurfilter
+mcurfolder
+prbool
+loggingenabled
+prfalse
+mfilters
+mfilters
+getloggingenabled
+loggingenabled
+nscomptr
+nsisupportsarray
+actionlist
+rv
+nsnewisupportsarray
+getteraddrefs
+actionlist
+nsensuresuccess
+rv
+rv
+rv
+mcurfilter
+getsortedactionlist
+actionlist
+nsensuresuccess
+rv
+rv
+pruint
+numactions
+actionlist
+count
+numactions
+prbool
+applymoreactions
+prtrue
+pruint
+actionindex
+actionindex
+numactions
+applymoreactions
+actionindex
+nscomptr
+nsimsgruleaction
+filteraction
+actionlist
+queryelementat
+actionindex
+nsgetiid
+nsimsgruleaction
+getteraddrefs
+filteraction
+nsmsgruleactiontype
+actiontype
+filteraction
+filteraction
+gettype
+actiontype
+nsxpidlcstring
+actiontargetfolderuri
+actiontype
+nsmsgfilteraction
+movetofolder
+filteraction
+gettargetfolderuri
+gettercopies
+actiontargetfolderuri
+actiontargetfolderuri
+isempty
+nsassertion
+prfalse
+actiontargetfolderuri
+is
+empty
+loggingenabled
+pruint
+msgindex
+msgindex
+msearchhits
+getsize
+msgindex
+nscomptr
+nsimsgdbhdr
+msghdr
+msearchhithdrs
+queryelementat
+msgindex
+nsgetiid
+nsimsgdbhdr
+getteraddrefs
+msghdr
+msghdr
+mcurfilter
+logrulehit
+filteraction
+msghdr
+actiontype
+nsmsgfilteraction
+delete
+mcurfolder
+deletemessages
+msearchhithdrs
+mmsgwindow
+prfalse
+prfalse
+nsnull
+prfalse
+applymoreactions
+prfalse
+nsmsgfilteraction
+movetofolder
+nsxpidlcstring
+uri
+rv
+mcurfolder
+geturi
+gettercopies
+uri
+actiontargetfolderuri
+nscrt
+strcmp
+uri
+actiontargetfolderuri
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+rdf
+rdf
+service
+rv
+nscomptr
+nsirdfresource
+res
+rv
+rdf
+getresource
+actiontargetfolderuri
+getteraddrefs
+res
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgfolder
+destifolder
+doqueryinterface
+res
+rv
+nsensuresuccess
+rv
+rv
+prbool
+canfilemessages
+prtrue
+nscomptr
+nsifolder
+parentfolder
+destifolder
+getparent
+getteraddrefs
+parentfolder
+parentfolder
+destifolder
+getcanfilemessages
+canfilemessages
+parentfolder
+canfilemessages
+mcurfilter
+setenabled
+prfalse
+destifolder
+throwalertmsg
+filterdisabled
+mmsgwindow
+runnextfilter
+nscomptr
+nsimsgcopyservice
+copyservice
+dogetservice
+nsmsgcopyservicecontractid
+rv
+copyservice
+copyservice
+copymessages
+mcurfolder
+msearchhithdrs
+destifolder
+prtrue
+mmsgwindow
+prfalse
+applymoreactions
+prfalse
+nsmsgfilteraction
+markread
+mcurfolder
+markmessagesread
+msearchhithdrs
+prtrue
+nsmsgfilteraction
+markflagged
+mcurfolder
+markmessagesflagged
+msearchhithdrs
+prtrue
+nsmsgfilteraction
+killthread
+nsmsgfilteraction
+watchthread
+pruint
+msgindex
+msgindex
+msearchhits
+getsize
+msgindex
+nscomptr
+nsimsgdbhdr
+msghdr
+msearchhithdrs
+queryelementat
+msgindex
+nsgetiid
+nsimsgdbhdr
+getteraddrefs
+msghdr
+msghdr
+nscomptr
+nsimsgthread
+msgthread
+nsmsgkey
+threadkey
+mcurfolderdb
+getthreadcontainingmsghdr
+msghdr
+getteraddrefs
+msgthread
+msgthread
+msgthread
+getthreadkey
+threadkey
+actiontype
+nsmsgfilteraction
+killthread
+mcurfolderdb
+markthreadignored
+msgthread
+threadkey
+prtrue
+nsnull
+mcurfolderdb
+markthreadwatched
+msgthread
+threadkey
+prtrue
+nsnull
+nsmsgfilteraction
+changepriority
+nsmsgpriorityvalue
+filterpriority
+filteraction
+getpriority
+filterpriority
+pruint
+msgindex
+msgindex
+msearchhits
+getsize
+msgindex
+nscomptr
+nsimsgdbhdr
+msghdr
+msearchhithdrs
+queryelementat
+msgindex
+nsgetiid
+nsimsgdbhdr
+getteraddrefs
+msghdr
+msghdr
+msghdr
+setpriority
+filterpriority
+nsmsgfilteraction
+label
+nsmsglabelvalue
+filterlabel
+filteraction
+getlabel
+filterlabel
+mcurfolder
+setlabelformessages
+msearchhithdrs
+filterlabel
+runnextfilter
+nsimethodimp
+nsmsgfilterservice
+gettempfilterlist
+nsimsgfolder
+afolder
+nsimsgfilterlist
+afilterlist
+nsensureargpointer
+afilterlist
+afilterlist
+nsmsgfilterlist
+afilterlist
+afilterlist
+setfolder
+afolder
+nsaddref
+afilterlist
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgfilterservice
+applyfilterstofolders
+nsimsgfilterlist
+afilterlist
+nsisupportsarray
+afolders
+nsimsgwindow
+amsgwindow
+nsmsgfilterafterthefact
+filterexecutor
+nsmsgfilterafterthefact
+amsgwindow
+afilterlist
+afolders
+filterexecutor
+filterexecutor
+advancetonextfolder
+nserroroutofmemory
+nsimethodimp
+nsmsgfilterafterthefact
+onstartcopy
+nsok
+nsimethodimp
+nsmsgfilterafterthefact
+onprogress
+pruint
+aprogress
+pruint
+aprogressmax
+nsok
+nsimethodimp
+nsmsgfilterafterthefact
+setmessagekey
+pruint
+nsok
+nsimethodimp
+nsmsgfilterafterthefact
+getmessageid
+nscstring
+nsok
+nsimethodimp
+nsmsgfilterafterthefact
+onstopcopy
+nsresult
+astatus
+prbool
+continueexecution
+nssucceeded
+astatus
+continueexecution
+continueexecution
+continueexecutionprompt
+continueexecution
+runnextfilter
+onendexecution
+astatus
+prbool
+nsmsgfilterafterthefact
+continueexecutionprompt
+prbool
+returnval
+prfalse
+nsresult
+rv
+nscomptr
+nsistringbundle
+bundle
+nscomptr
+nsistringbundleservice
+bundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+bundleservice
+nssucceeded
+rv
+bundleservice
+createbundle
+messenger
+locale
+filter
+properties
+getteraddrefs
+bundle
+nssucceeded
+rv
+bundle
+nsxpidlstring
+filtername
+mcurfilter
+getfiltername
+gettercopies
+filtername
+nsxpidlstring
+formatstring
+nsxpidlstring
+confirmtext
+prunichar
+formatstrings
+filtername
+rv
+bundle
+formatstringfromname
+nsliteralstring
+continuefilterexecution
+get
+formatstrings
+gettercopies
+confirmtext
+nssucceeded
+rv
+rv
+displayconfirmationprompt
+mmsgwindow
+confirmtext
+returnval
+returnval
+nsresult
+nsmsgfilterafterthefact
+displayconfirmationprompt
+nsimsgwindow
+msgwindow
+prunichar
+confirmstring
+prbool
+confirmed
+nsresult
+rv
+nsok
+msgwindow
+nscomptr
+nsidocshell
+docshell
+msgwindow
+getrootdocshell
+getteraddrefs
+docshell
+docshell
+nscomptr
+nsiprompt
+dialog
+dogetinterface
+docshell
+dialog
+confirmstring
+dialog
+confirm
+nsnull
+confirmstring
+confirmed
+rv
\ No newline at end of file
@@ -0,0 +1,2393 @@
+msgcore
+nsmsgsearchadapter
+nsxpidlstring
+nsreadableutils
+nsmsgsearchscopeterm
+nsmsgresultelement
+nsmsgsearchterm
+nsimsghdr
+nsmsgsearchimap
+nsmsgsearchonlinemail
+nsmsgsearchonlinemail
+nsmsgsearchscopeterm
+scope
+nsisupportsarray
+termlist
+nsmsgsearchadapter
+scope
+termlist
+nsmsgsearchonlinemail
+nsmsgsearchonlinemail
+nsresult
+nsmsgsearchonlinemail
+validateterms
+nsresult
+err
+nsmsgsearchadapter
+validateterms
+nssucceeded
+err
+nsxpidlstring
+srccharset
+dstcharset
+getsearchcharsets
+gettercopies
+srccharset
+gettercopies
+dstcharset
+err
+encode
+mencoding
+msearchterms
+dstcharset
+get
+nsassertion
+nssucceeded
+err
+failed
+to
+encode
+imap
+search
+err
+nsimethodimp
+nsmsgsearchonlinemail
+getencoding
+result
+result
+tonewcstring
+mencoding
+nsok
+nsimethodimp
+nsmsgsearchonlinemail
+addresultelement
+nsimsgdbhdr
+pheaders
+nsresult
+err
+nsok
+nscomptr
+nsimsgsearchsession
+searchsession
+mscope
+getsearchsession
+getteraddrefs
+searchsession
+searchsession
+nscomptr
+nsimsgfolder
+scopefolder
+err
+mscope
+getfolder
+getteraddrefs
+scopefolder
+searchsession
+addsearchhit
+pheaders
+scopefolder
+err
+nsresult
+nsmsgsearchonlinemail
+search
+prbool
+adone
+nsresult
+err
+nserrornotimplemented
+err
+nsresult
+nsmsgsearchonlinemail
+encode
+nscstring
+pencoding
+nsisupportsarray
+searchterms
+prunichar
+destcharset
+nsxpidlcstring
+imapterms
+prbool
+asciionly
+prtrue
+prtrue
+pruint
+termcount
+searchterms
+count
+termcount
+pruint
+termcount
+asciionly
+nscomptr
+nsimsgsearchterm
+pterm
+searchterms
+queryelementat
+nsgetiid
+nsimsgsearchterm
+getteraddrefs
+pterm
+nsmsgsearchattribvalue
+attribute
+pterm
+getattrib
+attribute
+isstringattribute
+attribute
+nsxpidlstring
+pchar
+nscomptr
+nsimsgsearchvalue
+searchvalue
+nsresult
+rv
+pterm
+getvalue
+getteraddrefs
+searchvalue
+nsfailed
+rv
+searchvalue
+rv
+searchvalue
+getstr
+gettercopies
+pchar
+nsfailed
+rv
+pchar
+asciionly
+nscrt
+isascii
+nsconstcast
+prunichar
+pchar
+get
+asciionly
+prfalse
+nsautostring
+usasciicharset
+nsliteralstring
+us
+ascii
+csname
+getimapcharsetparam
+asciionly
+usasciicharset
+get
+destcharset
+nsresult
+err
+nsmsgsearchadapter
+encodeimap
+gettercopies
+imapterms
+searchterms
+asciionly
+usasciicharset
+get
+destcharset
+asciionly
+usasciicharset
+get
+destcharset
+prfalse
+nssucceeded
+err
+pencoding
+append
+search
+csname
+pencoding
+append
+csname
+pencoding
+append
+imapterms
+prfreeif
+csname
+err
+nsresult
+nsmsgsearchvaliditymanager
+initofflinemailtable
+nsassertion
+mofflinemailtable
+offline
+mail
+table
+already
+initted
+nsresult
+rv
+newtable
+getteraddrefs
+mofflinemailtable
+nsensuresuccess
+rv
+rv
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+contains
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+contains
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+doesntcontain
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+doesntcontain
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+is
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+is
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+isnt
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+isnt
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+beginswith
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+beginswith
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+endswith
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+endswith
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+isinab
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+isinab
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+isntinab
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+isntinab
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+label
+nsmsgsearchop
+is
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+label
+nsmsgsearchop
+is
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+label
+nsmsgsearchop
+isnt
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+label
+nsmsgsearchop
+isnt
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+to
+nsmsgsearchop
+contains
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+to
+nsmsgsearchop
+contains
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+to
+nsmsgsearchop
+doesntcontain
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+to
+nsmsgsearchop
+doesntcontain
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+to
+nsmsgsearchop
+is
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+to
+nsmsgsearchop
+is
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+to
+nsmsgsearchop
+isnt
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+to
+nsmsgsearchop
+isnt
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+to
+nsmsgsearchop
+beginswith
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+to
+nsmsgsearchop
+beginswith
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+to
+nsmsgsearchop
+endswith
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+to
+nsmsgsearchop
+endswith
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+contains
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+contains
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+doesntcontain
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+doesntcontain
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+is
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+is
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+isnt
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+isnt
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+beginswith
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+beginswith
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+endswith
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+endswith
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+contains
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+contains
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+doesntcontain
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+doesntcontain
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+beginswith
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+beginswith
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+endswith
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+endswith
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+contains
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+contains
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+doesntcontain
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+doesntcontain
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+is
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+is
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+isnt
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+isnt
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+beginswith
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+beginswith
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+endswith
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+endswith
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+body
+nsmsgsearchop
+contains
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+body
+nsmsgsearchop
+contains
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+body
+nsmsgsearchop
+doesntcontain
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+body
+nsmsgsearchop
+doesntcontain
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+body
+nsmsgsearchop
+is
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+body
+nsmsgsearchop
+is
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+body
+nsmsgsearchop
+isnt
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+body
+nsmsgsearchop
+isnt
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isbefore
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isbefore
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isafter
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isafter
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+date
+nsmsgsearchop
+is
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+date
+nsmsgsearchop
+is
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isnt
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isnt
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+priority
+nsmsgsearchop
+ishigherthan
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+priority
+nsmsgsearchop
+ishigherthan
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+priority
+nsmsgsearchop
+islowerthan
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+priority
+nsmsgsearchop
+islowerthan
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+priority
+nsmsgsearchop
+is
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+priority
+nsmsgsearchop
+is
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+msgstatus
+nsmsgsearchop
+is
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+msgstatus
+nsmsgsearchop
+is
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+msgstatus
+nsmsgsearchop
+isnt
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+msgstatus
+nsmsgsearchop
+isnt
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+isgreaterthan
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+isgreaterthan
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+islessthan
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+islessthan
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+is
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+is
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+junkstatus
+nsmsgsearchop
+is
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+junkstatus
+nsmsgsearchop
+is
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+junkstatus
+nsmsgsearchop
+isnt
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+junkstatus
+nsmsgsearchop
+isnt
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+hasattachmentstatus
+nsmsgsearchop
+is
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+hasattachmentstatus
+nsmsgsearchop
+is
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+hasattachmentstatus
+nsmsgsearchop
+isnt
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+hasattachmentstatus
+nsmsgsearchop
+isnt
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+contains
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+contains
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+is
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+is
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+beginswith
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+beginswith
+mofflinemailtable
+setavailable
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+endswith
+mofflinemailtable
+setenabled
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+endswith
+rv
+nsresult
+nsmsgsearchvaliditymanager
+initonlinemailtable
+nsassertion
+monlinemailtable
+online
+mail
+table
+already
+initted
+nsresult
+rv
+newtable
+getteraddrefs
+monlinemailtable
+nsensuresuccess
+rv
+rv
+monlinemailtable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+contains
+monlinemailtable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+contains
+monlinemailtable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+doesntcontain
+monlinemailtable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+doesntcontain
+monlinemailtable
+setavailable
+nsmsgsearchattrib
+to
+nsmsgsearchop
+contains
+monlinemailtable
+setenabled
+nsmsgsearchattrib
+to
+nsmsgsearchop
+contains
+monlinemailtable
+setavailable
+nsmsgsearchattrib
+to
+nsmsgsearchop
+doesntcontain
+monlinemailtable
+setenabled
+nsmsgsearchattrib
+to
+nsmsgsearchop
+doesntcontain
+monlinemailtable
+setavailable
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+contains
+monlinemailtable
+setenabled
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+contains
+monlinemailtable
+setavailable
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+doesntcontain
+monlinemailtable
+setenabled
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+doesntcontain
+monlinemailtable
+setavailable
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+contains
+monlinemailtable
+setenabled
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+contains
+monlinemailtable
+setavailable
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+doesntcontain
+monlinemailtable
+setenabled
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+doesntcontain
+monlinemailtable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+contains
+monlinemailtable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+contains
+monlinemailtable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+doesntcontain
+monlinemailtable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+doesntcontain
+monlinemailtable
+setavailable
+nsmsgsearchattrib
+body
+nsmsgsearchop
+contains
+monlinemailtable
+setenabled
+nsmsgsearchattrib
+body
+nsmsgsearchop
+contains
+monlinemailtable
+setavailable
+nsmsgsearchattrib
+body
+nsmsgsearchop
+doesntcontain
+monlinemailtable
+setenabled
+nsmsgsearchattrib
+body
+nsmsgsearchop
+doesntcontain
+monlinemailtable
+setavailable
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isbefore
+monlinemailtable
+setenabled
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isbefore
+monlinemailtable
+setavailable
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isafter
+monlinemailtable
+setenabled
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isafter
+monlinemailtable
+setavailable
+nsmsgsearchattrib
+date
+nsmsgsearchop
+is
+monlinemailtable
+setenabled
+nsmsgsearchattrib
+date
+nsmsgsearchop
+is
+monlinemailtable
+setavailable
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isnt
+monlinemailtable
+setenabled
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isnt
+monlinemailtable
+setavailable
+nsmsgsearchattrib
+msgstatus
+nsmsgsearchop
+is
+monlinemailtable
+setenabled
+nsmsgsearchattrib
+msgstatus
+nsmsgsearchop
+is
+monlinemailtable
+setavailable
+nsmsgsearchattrib
+msgstatus
+nsmsgsearchop
+isnt
+monlinemailtable
+setenabled
+nsmsgsearchattrib
+msgstatus
+nsmsgsearchop
+isnt
+monlinemailtable
+setavailable
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+isgreaterthan
+monlinemailtable
+setenabled
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+isgreaterthan
+monlinemailtable
+setavailable
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+islessthan
+monlinemailtable
+setenabled
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+islessthan
+monlinemailtable
+setenabled
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+is
+monlinemailtable
+setavailable
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+is
+monlinemailtable
+setavailable
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+contains
+monlinemailtable
+setenabled
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+contains
+monlinemailtable
+setavailable
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+is
+monlinemailtable
+setenabled
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+is
+monlinemailtable
+setavailable
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+beginswith
+monlinemailtable
+setenabled
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+beginswith
+monlinemailtable
+setavailable
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+endswith
+monlinemailtable
+setenabled
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+endswith
+rv
+nsresult
+nsmsgsearchvaliditymanager
+initonlinemailfiltertable
+nsassertion
+monlinemailfiltertable
+online
+filter
+table
+already
+initted
+nsresult
+rv
+newtable
+getteraddrefs
+monlinemailfiltertable
+nsensuresuccess
+rv
+rv
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+contains
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+contains
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+doesntcontain
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+doesntcontain
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+is
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+is
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+isnt
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+isnt
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+beginswith
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+beginswith
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+endswith
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+endswith
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+isinab
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+isinab
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+isntinab
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+isntinab
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+to
+nsmsgsearchop
+contains
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+to
+nsmsgsearchop
+contains
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+to
+nsmsgsearchop
+doesntcontain
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+to
+nsmsgsearchop
+doesntcontain
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+to
+nsmsgsearchop
+is
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+to
+nsmsgsearchop
+is
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+to
+nsmsgsearchop
+isnt
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+to
+nsmsgsearchop
+isnt
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+to
+nsmsgsearchop
+beginswith
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+to
+nsmsgsearchop
+beginswith
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+to
+nsmsgsearchop
+endswith
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+to
+nsmsgsearchop
+endswith
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+contains
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+contains
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+doesntcontain
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+doesntcontain
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+is
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+is
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+isnt
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+isnt
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+beginswith
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+beginswith
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+endswith
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+endswith
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+contains
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+contains
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+doesntcontain
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+doesntcontain
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+beginswith
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+beginswith
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+endswith
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+endswith
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+contains
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+contains
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+doesntcontain
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+doesntcontain
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+is
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+is
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+isnt
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+isnt
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+beginswith
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+beginswith
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+endswith
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+endswith
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isbefore
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isbefore
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isafter
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isafter
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+date
+nsmsgsearchop
+is
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+date
+nsmsgsearchop
+is
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isnt
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isnt
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+priority
+nsmsgsearchop
+ishigherthan
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+priority
+nsmsgsearchop
+ishigherthan
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+priority
+nsmsgsearchop
+islowerthan
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+priority
+nsmsgsearchop
+islowerthan
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+priority
+nsmsgsearchop
+is
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+priority
+nsmsgsearchop
+is
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+msgstatus
+nsmsgsearchop
+is
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+msgstatus
+nsmsgsearchop
+is
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+msgstatus
+nsmsgsearchop
+isnt
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+msgstatus
+nsmsgsearchop
+isnt
+monlinemailfiltertable
+setvalidbutnotshown
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+isgreaterthan
+monlinemailfiltertable
+setvalidbutnotshown
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+islessthan
+monlinemailfiltertable
+setvalidbutnotshown
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+is
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+contains
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+contains
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+is
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+is
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+beginswith
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+beginswith
+monlinemailfiltertable
+setavailable
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+endswith
+monlinemailfiltertable
+setenabled
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+endswith
+rv
+nsresult
+nsmsgsearchvaliditymanager
+initofflinemailfiltertable
+nsassertion
+mofflinemailfiltertable
+offline
+mail
+filter
+table
+already
+initted
+nsresult
+rv
+newtable
+getteraddrefs
+mofflinemailfiltertable
+nsensuresuccess
+rv
+rv
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+contains
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+contains
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+doesntcontain
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+doesntcontain
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+is
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+is
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+isnt
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+isnt
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+beginswith
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+beginswith
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+endswith
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+endswith
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+isinab
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+isinab
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+isntinab
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+isntinab
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+to
+nsmsgsearchop
+contains
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+to
+nsmsgsearchop
+contains
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+to
+nsmsgsearchop
+doesntcontain
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+to
+nsmsgsearchop
+doesntcontain
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+to
+nsmsgsearchop
+is
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+to
+nsmsgsearchop
+is
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+to
+nsmsgsearchop
+isnt
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+to
+nsmsgsearchop
+isnt
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+to
+nsmsgsearchop
+beginswith
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+to
+nsmsgsearchop
+beginswith
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+to
+nsmsgsearchop
+endswith
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+to
+nsmsgsearchop
+endswith
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+contains
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+contains
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+doesntcontain
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+doesntcontain
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+is
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+is
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+isnt
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+isnt
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+beginswith
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+beginswith
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+endswith
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+cc
+nsmsgsearchop
+endswith
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+contains
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+contains
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+doesntcontain
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+doesntcontain
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+beginswith
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+beginswith
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+endswith
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+toorcc
+nsmsgsearchop
+endswith
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+contains
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+contains
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+doesntcontain
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+doesntcontain
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+is
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+is
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+isnt
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+isnt
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+beginswith
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+beginswith
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+endswith
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+endswith
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+body
+nsmsgsearchop
+contains
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+body
+nsmsgsearchop
+contains
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+body
+nsmsgsearchop
+doesntcontain
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+body
+nsmsgsearchop
+doesntcontain
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+body
+nsmsgsearchop
+is
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+body
+nsmsgsearchop
+is
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+body
+nsmsgsearchop
+isnt
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+body
+nsmsgsearchop
+isnt
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isbefore
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isbefore
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isafter
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isafter
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+date
+nsmsgsearchop
+is
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+date
+nsmsgsearchop
+is
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isnt
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isnt
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+priority
+nsmsgsearchop
+ishigherthan
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+priority
+nsmsgsearchop
+ishigherthan
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+priority
+nsmsgsearchop
+islowerthan
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+priority
+nsmsgsearchop
+islowerthan
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+priority
+nsmsgsearchop
+is
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+priority
+nsmsgsearchop
+is
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+msgstatus
+nsmsgsearchop
+is
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+msgstatus
+nsmsgsearchop
+is
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+msgstatus
+nsmsgsearchop
+isnt
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+msgstatus
+nsmsgsearchop
+isnt
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+isgreaterthan
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+isgreaterthan
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+islessthan
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+islessthan
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+is
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+is
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+contains
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+contains
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+is
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+is
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+beginswith
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+beginswith
+mofflinemailfiltertable
+setavailable
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+endswith
+mofflinemailfiltertable
+setenabled
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+endswith
+rv
\ No newline at end of file
@@ -0,0 +1,1572 @@
+msgcore
+nsmsgsearchadapter
+nsxpidlstring
+nsunicharutils
+nsreadableutils
+nsmsgsearchscopeterm
+nsmsgresultelement
+nsmsgsearchterm
+nsimsghdr
+nsmsgsearchnews
+nsidbfolderinfo
+prprf
+nsmsgsearchnews
+mknntpfrom
+from
+nsmsgsearchnews
+mknntpsubject
+subject
+nsmsgsearchnews
+mktermseparator
+nsmsgsearchnews
+nsmsgsearchnews
+nsmsgsearchscopeterm
+scope
+nsisupportsarray
+termlist
+nsmsgsearchadapter
+scope
+termlist
+nsmsgsearchnews
+nsmsgsearchnews
+nsresult
+nsmsgsearchnews
+validateterms
+nsresult
+err
+nsmsgsearchadapter
+validateterms
+nsok
+err
+err
+encode
+mencoding
+err
+nsresult
+nsmsgsearchnews
+search
+prbool
+adone
+nsresult
+err
+nserrornotimplemented
+err
+prunichar
+nsmsgsearchnews
+encodetowildmat
+prunichar
+value
+prunichar
+caseinsensitivevalue
+prunichar
+nsmemory
+alloc
+prunichar
+nscrt
+strlen
+value
+caseinsensitivevalue
+prunichar
+walkvalue
+caseinsensitivevalue
+value
+nscrt
+isasciialpha
+value
+walkvalue
+prunichar
+walkvalue
+touppercase
+prunichar
+value
+walkvalue
+tolowercase
+prunichar
+value
+walkvalue
+prunichar
+walkvalue
+value
+value
+walkvalue
+caseinsensitivevalue
+nsmsgsearchnews
+encodeterm
+nsimsgsearchterm
+term
+nsassertion
+term
+term
+term
+nsnull
+attribencoding
+nsnull
+nsmsgsearchattribvalue
+attrib
+term
+getattrib
+attrib
+attrib
+nsmsgsearchattrib
+sender
+attribencoding
+mknntpfrom
+nsmsgsearchattrib
+subject
+attribencoding
+mknntpsubject
+nsassertion
+prfalse
+malformed
+search
+nsnull
+prbool
+leadingstar
+prfalse
+prbool
+trailingstar
+prfalse
+overhead
+nsmsgsearchopvalue
+op
+term
+getop
+op
+op
+nsmsgsearchop
+contains
+leadingstar
+prtrue
+trailingstar
+prtrue
+overhead
+nsmsgsearchop
+is
+nsmsgsearchop
+beginswith
+trailingstar
+prtrue
+overhead
+nsmsgsearchop
+endswith
+leadingstar
+prtrue
+overhead
+nsassertion
+prfalse
+malformed
+search
+nsnull
+nscomptr
+nsimsgsearchvalue
+searchvalue
+nsresult
+rv
+term
+getvalue
+getteraddrefs
+searchvalue
+nsfailed
+rv
+searchvalue
+nsnull
+nsxpidlstring
+intlnonrfcvalue
+rv
+searchvalue
+getstr
+gettercopies
+intlnonrfcvalue
+nsfailed
+rv
+intlnonrfcvalue
+nsnull
+prunichar
+caseinsensitivevalue
+encodetowildmat
+intlnonrfcvalue
+caseinsensitivevalue
+nsnull
+prunichar
+escapedvalue
+escapesearchurl
+caseinsensitivevalue
+nsmemory
+free
+caseinsensitivevalue
+escapedvalue
+nsnull
+prunichar
+urlencoded
+nsescape
+escapedvalue
+urlpath
+nscrt
+free
+escapedvalue
+urlencoded
+nsnull
+pattern
+nscrt
+strlen
+urlencoded
+overhead
+pattern
+nsnull
+pattern
+nscautostring
+pattern
+endif
+leadingstar
+pattern
+append
+pattern
+append
+nsconvertucstoutf
+escapedvalue
+trailingstar
+pattern
+append
+xpattemplate
+xpat
+termlength
+xpattemplate
+strlen
+attribencoding
+pattern
+length
+termencoding
+termlength
+termencoding
+prsnprintf
+termencoding
+termlength
+xpattemplate
+attribencoding
+pattern
+get
+termencoding
+nsresult
+nsmsgsearchnews
+getencoding
+result
+nsensurearg
+result
+result
+tonewcstring
+mencoding
+result
+nsok
+nserroroutofmemory
+nsresult
+nsmsgsearchnews
+encode
+nscstring
+outencoding
+nsassertion
+outencoding
+no
+out
+encoding
+outencoding
+nserrornullpointer
+nsresult
+err
+nsok
+pruint
+numterms
+msearchterms
+count
+numterms
+intermediateencodings
+numterms
+intermediateencodings
+encodinglength
+pruint
+numterms
+nscomptr
+nsimsgsearchterm
+pterm
+msearchterms
+queryelementat
+nsgetiid
+nsimsgsearchterm
+getteraddrefs
+pterm
+prbool
+isbooleanopand
+pterm
+getbooleanand
+isbooleanopand
+morsearch
+isbooleanopand
+intermediateencodings
+encodeterm
+pterm
+intermediateencodings
+encodinglength
+strlen
+intermediateencodings
+strlen
+mktermseparator
+encodinglength
+strlen
+search
+encoding
+encodinglength
+encoding
+plstrcpy
+encoding
+search
+msearchterms
+count
+numterms
+numterms
+intermediateencodings
+plstrcat
+encoding
+mktermseparator
+plstrcat
+encoding
+intermediateencodings
+intermediateencodings
+outencoding
+encoding
+err
+nserroroutofmemory
+err
+nserroroutofmemory
+intermediateencodings
+err
+nsimethodimp
+nsmsgsearchnews
+addhit
+nsmsgkey
+key
+mcandidatehits
+add
+key
+nsok
+nsimethodimp
+nsmsgsearchnews
+currenturldone
+print
+exitcode
+collatehits
+reporthits
+nsok
+nsmsgsearchnews
+preexitfunction
+urlstruct
+status
+mwcontext
+context
+msgsearchframe
+frame
+msgsearchframe
+fromcontext
+context
+nsmsgsearchnews
+adapter
+nsmsgsearchnews
+frame
+getrunningadapter
+adapter
+collatehits
+adapter
+reporthits
+status
+mkinterrupted
+adapter
+abort
+frame
+endcylonmode
+frame
+midxrunningscope
+frame
+midxrunningscope
+frame
+mscopelist
+count
+frame
+endcylonmode
+endif
+prbool
+nsmsgsearchnews
+duplicatehit
+pruint
+artnum
+pruint
+index
+index
+index
+mhits
+getsize
+index
+artnum
+mhits
+elementat
+index
+prtrue
+prfalse
+nsmsgsearchnews
+collatehits
+mcandidatehits
+getsize
+mcandidatehits
+quicksort
+comparearticlenumbers
+size
+mcandidatehits
+getsize
+index
+pruint
+candidate
+mcandidatehits
+elementat
+index
+morsearch
+index
+index
+size
+index
+candidate
+mcandidatehits
+elementat
+index
+duplicatehit
+candidate
+mhits
+add
+candidate
+pruint
+termcount
+msearchterms
+count
+termcount
+pruint
+candidatecount
+index
+size
+candidate
+mcandidatehits
+elementat
+index
+candidatecount
+candidatecount
+candidatecount
+termcount
+mhits
+add
+mcandidatehits
+elementat
+index
+candidate
+mcandidatehits
+elementat
+index
+nsmsgsearchnews
+reporthits
+nscomptr
+nsimsgdatabase
+db
+nscomptr
+nsidbfolderinfo
+folderinfo
+nscomptr
+nsimsgfolder
+scopefolder
+nsresult
+err
+mscope
+getfolder
+getteraddrefs
+scopefolder
+nssucceeded
+err
+scopefolder
+err
+scopefolder
+getdbfolderinfoanddb
+getteraddrefs
+folderinfo
+getteraddrefs
+db
+db
+pruint
+mhits
+getsize
+nscomptr
+nsimsgdbhdr
+header
+db
+getmsghdrforkey
+mhits
+elementat
+getteraddrefs
+header
+header
+reporthit
+header
+scopefolder
+nsmsgsearchnews
+reporthit
+nsimsgdbhdr
+pheaders
+nsimsgfolder
+folder
+nsresult
+err
+nsok
+nscomptr
+nsimsgsearchsession
+session
+nscomptr
+nsimsgfolder
+scopefolder
+err
+mscope
+getfolder
+getteraddrefs
+scopefolder
+mscope
+getsearchsession
+getteraddrefs
+session
+session
+session
+addsearchhit
+pheaders
+scopefolder
+prcallback
+nsmsgsearchnews
+comparearticlenumbers
+data
+uint
+uint
+uint
+uint
+nsmsgsearchnewsex
+mksearchtemplate
+search
+search
+header
+newsgroups
+nsmsgsearchnewsex
+mkprofiletemplate
+dummy
+profile
+profile
+new
+header
+newsgroups
+nsmsgsearchnewsex
+nsmsgsearchnewsex
+nsmsgsearchscopeterm
+scope
+nsisupportsarray
+termlist
+nsmsgsearchnews
+scope
+termlist
+nsmsgsearchnewsex
+nsmsgsearchnewsex
+nsresult
+nsmsgsearchnewsex
+validateterms
+nsresult
+err
+nsmsgsearchadapter
+validateterms
+nsok
+err
+err
+encode
+mencoding
+err
+nsresult
+nsmsgsearchnewsex
+search
+prbool
+adone
+nserrornotimplemented
+nsresult
+nsmsgsearchnewsex
+encode
+nscstring
+ppoutencoding
+ppoutencoding
+imapterms
+nsnull
+nsxpidlstring
+srccharset
+dstcharset
+getsearchcharsets
+gettercopies
+srccharset
+gettercopies
+dstcharset
+nsresult
+err
+encodeimap
+imapterms
+msearchterms
+srccharset
+get
+dstcharset
+get
+prtrue
+ifdef
+doingdredd
+nsok
+err
+scopestring
+nsnull
+err
+mscope
+mframe
+encodedreddscopes
+scopestring
+nsok
+err
+dreddencoding
+prsmprintf
+mksearchtemplate
+scopestring
+imapterms
+dreddencoding
+ppoutencoding
+dreddencoding
+nscrt
+free
+dreddencoding
+err
+nserroroutofmemory
+nscrt
+free
+scopestring
+endif
+err
+ifdef
+doingprofiles
+nsresult
+nsmsgsearchnewsex
+saveprofile
+profilename
+nsresult
+err
+nsok
+msgfolderinfo
+folder
+mscope
+mfolder
+msgnewshost
+host
+nsnull
+msgfolderinfonews
+newsfolder
+folder
+getnewsfolderinfo
+newsfolder
+host
+newsfolder
+gethost
+foldercontaineronly
+folder
+gettype
+host
+msgnewsfolderinfocontainer
+folder
+gethost
+nsabortiffalse
+nsnull
+host
+nsnull
+profilename
+host
+profilename
+should
+be
+nsnull
+host
+nsnull
+profilename
+scopestring
+nsnull
+mscope
+mframe
+encodedreddscopes
+scopestring
+int
+srccsid
+dstcsid
+getsearchcsids
+srccsid
+dstcsid
+termsstring
+nsnull
+encodeimap
+termsstring
+msearchterms
+srccsid
+dstcsid
+prtrue
+legalprofilename
+plstrdup
+profilename
+termsstring
+scopestring
+legalprofilename
+msgmakelegalnewsgroupcomponent
+legalprofilename
+url
+prsmprintf
+mkprofiletemplate
+host
+geturlbase
+legalprofilename
+scopestring
+termsstring
+url
+urlstruct
+urlstruct
+netcreateurlstruct
+url
+netdontreload
+urlstruct
+urlstruct
+internalurl
+prtrue
+urlstruct
+preexitfn
+preexitfunctionex
+geturlerr
+mscope
+mframe
+mpane
+geturl
+urlstruct
+prfalse
+geturlerr
+err
+searcherrorscopeagreement
+mscope
+mframe
+begincylonmode
+err
+nserroroutofmemory
+nscrt
+free
+url
+err
+nserroroutofmemory
+crtfreeif
+scopestring
+termsstring
+crtfreeif
+legalprofilename
+err
+endif
+oldway
+searchapi
+msgaddnewssearchhit
+mwcontext
+context
+resultline
+msgsearchframe
+frame
+msgsearchframe
+fromcontext
+context
+nsmsgsearchnewsex
+adapter
+nsmsgsearchnewsex
+frame
+getrunningadapter
+adapter
+messagehdrstruct
+hdr
+xpbzero
+hdr
+hdr
+xovercompatline
+xpstrchr
+resultline
+xovercompatline
+xovercompatline
+xovercompatline
+resultline
+neomessagehdr
+parseline
+xovercompatline
+hdr
+hdr
+mflags
+khasre
+hdr
+mflags
+khasre
+hdr
+mflags
+msgflaghasre
+adapter
+reporthit
+hdr
+xpstrtok
+resultline
+searchapi
+nsresult
+msgsaveprofilestatus
+msgpane
+searchpane
+prbool
+cmdenabled
+nsresult
+err
+nsok
+nsabortiffalse
+cmdenabled
+cmdenabled
+cannot
+be
+cmdenabled
+cmdenabled
+prfalse
+msgsearchframe
+frame
+msgsearchframe
+frompane
+searchpane
+frame
+cmdenabled
+frame
+getsaveprofilestatus
+err
+nserrornullpointer
+err
+searchapi
+nsresult
+msgsaveprofile
+msgpane
+searchpane
+profilename
+nsresult
+err
+nsok
+ifdef
+debug
+prbool
+enabled
+prfalse
+msgsaveprofilestatus
+searchpane
+enabled
+nsensuretrue
+enabled
+searcherrorscopeagreement
+endif
+profilename
+msgsearchframe
+frame
+msgsearchframe
+frompane
+searchpane
+nsassertion
+frame
+frame
+cannot
+be
+frame
+nsmsgsearchnewsex
+adapter
+frame
+getprofileadapter
+nsassertion
+adapter
+adaptor
+cannot
+be
+adapter
+err
+adapter
+saveprofile
+profilename
+err
+nserrornullpointer
+err
+searchapi
+msgaddprofilegroup
+msgpane
+pane
+msgnewshost
+host
+groupname
+msgfolderinfonews
+group
+pane
+getmaster
+addprofilenewsgroup
+host
+groupname
+group
+endif
+nsresult
+nsmsgsearchvaliditymanager
+initnewstable
+nsassertion
+nsnull
+mnewstable
+don
+call
+twice
+nsresult
+rv
+newtable
+getteraddrefs
+mnewstable
+nssucceeded
+rv
+mnewstable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+contains
+mnewstable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+contains
+mnewstable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+is
+mnewstable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+is
+mnewstable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+beginswith
+mnewstable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+beginswith
+mnewstable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+endswith
+mnewstable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+endswith
+mnewstable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+contains
+mnewstable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+contains
+mnewstable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+is
+mnewstable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+is
+mnewstable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+beginswith
+mnewstable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+beginswith
+mnewstable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+endswith
+mnewstable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+endswith
+rv
+nsresult
+nsmsgsearchvaliditymanager
+initnewsfiltertable
+nsassertion
+nsnull
+mnewsfiltertable
+news
+filter
+table
+already
+initted
+nsresult
+rv
+newtable
+getteraddrefs
+mnewsfiltertable
+nssucceeded
+rv
+mnewsfiltertable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+contains
+mnewsfiltertable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+contains
+mnewsfiltertable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+doesntcontain
+mnewsfiltertable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+doesntcontain
+mnewsfiltertable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+is
+mnewsfiltertable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+is
+mnewsfiltertable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+isnt
+mnewsfiltertable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+isnt
+mnewsfiltertable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+beginswith
+mnewsfiltertable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+beginswith
+mnewsfiltertable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+endswith
+mnewsfiltertable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+endswith
+mnewsfiltertable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+isinab
+mnewsfiltertable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+isinab
+mnewsfiltertable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+isntinab
+mnewsfiltertable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+isntinab
+mnewsfiltertable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+contains
+mnewsfiltertable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+contains
+mnewsfiltertable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+doesntcontain
+mnewsfiltertable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+doesntcontain
+mnewsfiltertable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+is
+mnewsfiltertable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+is
+mnewsfiltertable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+isnt
+mnewsfiltertable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+isnt
+mnewsfiltertable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+beginswith
+mnewsfiltertable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+beginswith
+mnewsfiltertable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+endswith
+mnewsfiltertable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+endswith
+mnewsfiltertable
+setavailable
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isbefore
+mnewsfiltertable
+setenabled
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isbefore
+mnewsfiltertable
+setavailable
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isafter
+mnewsfiltertable
+setenabled
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isafter
+mnewsfiltertable
+setavailable
+nsmsgsearchattrib
+date
+nsmsgsearchop
+is
+mnewsfiltertable
+setenabled
+nsmsgsearchattrib
+date
+nsmsgsearchop
+is
+mnewsfiltertable
+setavailable
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isnt
+mnewsfiltertable
+setenabled
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isnt
+rv
+ifdef
+doingexnewssearch
+nsresult
+nsmsgsearchvaliditymanager
+initnewsextable
+nsinntpincomingserver
+newshost
+nsresult
+err
+nsok
+mnewsextable
+err
+newtable
+getteraddrefs
+mnewsextable
+nsok
+err
+prbool
+hasattrib
+prtrue
+newshost
+newshost
+querysearchableheader
+from
+hasattrib
+mnewsextable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+contains
+hasattrib
+mnewsextable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+contains
+hasattrib
+mnewsextable
+setavailable
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+doesntcontain
+hasattrib
+mnewsextable
+setenabled
+nsmsgsearchattrib
+sender
+nsmsgsearchop
+doesntcontain
+hasattrib
+newshost
+newshost
+querysearchableheader
+subject
+hasattrib
+hasattrib
+prtrue
+mnewsextable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+contains
+hasattrib
+mnewsextable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+contains
+hasattrib
+mnewsextable
+setavailable
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+doesntcontain
+hasattrib
+mnewsextable
+setenabled
+nsmsgsearchattrib
+subject
+nsmsgsearchop
+doesntcontain
+hasattrib
+newshost
+newshost
+querysearchableheader
+date
+hasattrib
+hasattrib
+prtrue
+mnewsextable
+setavailable
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isbefore
+hasattrib
+mnewsextable
+setenabled
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isbefore
+hasattrib
+mnewsextable
+setavailable
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isafter
+hasattrib
+mnewsextable
+setenabled
+nsmsgsearchattrib
+date
+nsmsgsearchop
+isafter
+hasattrib
+newshost
+newshost
+querysearchableheader
+text
+hasattrib
+hasattrib
+prtrue
+mnewsextable
+setavailable
+nsmsgsearchattrib
+anytext
+nsmsgsearchop
+contains
+hasattrib
+mnewsextable
+setenabled
+nsmsgsearchattrib
+anytext
+nsmsgsearchop
+contains
+hasattrib
+mnewsextable
+setavailable
+nsmsgsearchattrib
+anytext
+nsmsgsearchop
+doesntcontain
+hasattrib
+mnewsextable
+setenabled
+nsmsgsearchattrib
+anytext
+nsmsgsearchop
+doesntcontain
+hasattrib
+newshost
+newshost
+querysearchableheader
+keywords
+hasattrib
+hasattrib
+prtrue
+mnewsextable
+setavailable
+nsmsgsearchattrib
+keywords
+nsmsgsearchop
+contains
+hasattrib
+mnewsextable
+setenabled
+nsmsgsearchattrib
+keywords
+nsmsgsearchop
+contains
+hasattrib
+mnewsextable
+setavailable
+nsmsgsearchattrib
+keywords
+nsmsgsearchop
+doesntcontain
+hasattrib
+mnewsextable
+setenabled
+nsmsgsearchattrib
+keywords
+nsmsgsearchop
+doesntcontain
+hasattrib
+ifdef
+later
+hasattrib
+newshost
+newshost
+querysearchableheader
+newsgroups
+prtrue
+mnewsextable
+setavailable
+nsmsgsearchattrib
+newsgroups
+nsmsgsearchop
+isbefore
+hasattrib
+mnewsextable
+setenabled
+nsmsgsearchattrib
+newsgroups
+nsmsgsearchop
+isbefore
+hasattrib
+mnewsextable
+setavailable
+nsmsgsearchattrib
+newsgroups
+nsmsgsearchop
+isafter
+hasattrib
+mnewsextable
+setenabled
+nsmsgsearchattrib
+newsgroups
+nsmsgsearchop
+isafter
+hasattrib
+endif
+newshost
+newshost
+querysearchableheader
+date
+hasattrib
+hasattrib
+prtrue
+mnewsextable
+setavailable
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+isgreaterthan
+hasattrib
+mnewsextable
+setenabled
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+isgreaterthan
+hasattrib
+mnewsextable
+setavailable
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+islessthan
+hasattrib
+mnewsextable
+setenabled
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+islessthan
+hasattrib
+mnewsextable
+setavailable
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+is
+hasattrib
+mnewsextable
+setenabled
+nsmsgsearchattrib
+ageindays
+nsmsgsearchop
+is
+hasattrib
+mnewsextable
+setavailable
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+contains
+mnewsextable
+setenabled
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+contains
+mnewsextable
+setavailable
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+doesntcontain
+mnewsextable
+setenabled
+nsmsgsearchattrib
+otherheader
+nsmsgsearchop
+doesntcontain
+err
+nsresult
+nsmsgsearchvaliditymanager
+postprocessvaliditytable
+nsinntpincomingserver
+host
+initnewsextable
+host
+endif
\ No newline at end of file
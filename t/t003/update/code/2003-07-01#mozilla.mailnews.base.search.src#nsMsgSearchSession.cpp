@@ -0,0 +1,1066 @@
+msgcore
+nsmsgsearchcore
+nsmsgsearchadapter
+nsmsgsearchsession
+nsmsgresultelement
+nsmsgsearchterm
+nsmsgsearchscopeterm
+nsimsgmessageservice
+nsmsgutils
+nsxpidlstring
+nsimsgsearchnotify
+nsimsgmailsession
+nsmsgbasecid
+nsmsgfolderflags
+nsmsglocalsearch
+nsimplisupports
+nsmsgsearchsession
+nsimsgsearchsession
+nsiurllistener
+nsifolderlistener
+nsisupportsweakreference
+nsmsgsearchsession
+nsmsgsearchsession
+msortattribute
+nsmsgsearchattrib
+sender
+mdescending
+prfalse
+midxrunningscope
+mparallel
+prfalse
+mhandlingerror
+prfalse
+mpsearchparam
+nsnull
+msearchpaused
+prfalse
+nsnewisupportsarray
+getteraddrefs
+mtermlist
+nsmsgsearchsession
+nsmsgsearchsession
+destroyresultlist
+destroyscopelist
+destroytermlist
+prfreeif
+mpsearchparam
+nsimethodimp
+nsmsgsearchsession
+addsearchterm
+nsmsgsearchattribvalue
+attrib
+nsmsgsearchopvalue
+op
+nsimsgsearchvalue
+value
+prbool
+booleanandp
+arbitraryheader
+nsmsgsearchbooleanoperator
+boolop
+booleanandp
+boolop
+nsmsgsearchbooleanoperator
+nsmsgsearchbooleanop
+booleanand
+boolop
+nsmsgsearchbooleanoperator
+nsmsgsearchbooleanop
+booleanor
+nsmsgsearchterm
+pterm
+nsmsgsearchterm
+attrib
+op
+value
+boolop
+arbitraryheader
+nsnull
+pterm
+nserroroutofmemory
+mtermlist
+appendelement
+pterm
+nsok
+nsimethodimp
+nsmsgsearchsession
+appendterm
+nsimsgsearchterm
+aterm
+nsensureargpointer
+aterm
+nsensuretrue
+mtermlist
+nserrornotinitialized
+mtermlist
+appendelement
+aterm
+nsimethodimp
+nsmsgsearchsession
+getsearchterms
+nsisupportsarray
+aresult
+nsensureargpointer
+aresult
+aresult
+mtermlist
+nsaddref
+aresult
+nsok
+nsimethodimp
+nsmsgsearchsession
+createterm
+nsimsgsearchterm
+aresult
+nsmsgsearchterm
+term
+nsmsgsearchterm
+nsensuretrue
+term
+nserroroutofmemory
+aresult
+nsstaticcast
+nsimsgsearchterm
+term
+nsaddref
+aresult
+nsok
+nsimethodimp
+nsmsgsearchsession
+registerlistener
+nsimsgsearchnotify
+listener
+nsresult
+ret
+nsok
+mlistenerlist
+ret
+nsnewisupportsarray
+getteraddrefs
+mlistenerlist
+nssucceeded
+ret
+mlistenerlist
+mlistenerlist
+appendelement
+listener
+ret
+nsimethodimp
+nsmsgsearchsession
+unregisterlistener
+nsimsgsearchnotify
+listener
+mlistenerlist
+mlistenerlist
+removeelement
+listener
+nsok
+nsimethodimp
+nsmsgsearchsession
+getnumsearchterms
+pruint
+anumsearchterms
+nsensurearg
+anumsearchterms
+mtermlist
+count
+anumsearchterms
+nsimethodimp
+nsmsgsearchsession
+getnthsearchterm
+print
+whichterm
+nsmsgsearchattribvalue
+attrib
+nsmsgsearchopvalue
+op
+nsimsgsearchvalue
+value
+nserrornotimplemented
+nsimethodimp
+nsmsgsearchsession
+countsearchscopes
+print
+retval
+nsensurearg
+retval
+nserrornotimplemented
+nsimethodimp
+nsmsgsearchsession
+getnthsearchscope
+print
+which
+nsmsgsearchscopevalue
+scopeid
+nsimsgfolder
+folder
+nsmsgsearchscopeterm
+scopeterm
+nsmsgsearchscopeterm
+mscopelist
+safeelementat
+which
+scopeterm
+nserrorinvalidarg
+scopeid
+scopeterm
+mattribute
+folder
+scopeterm
+mfolder
+nsifaddref
+folder
+nsok
+nsimethodimp
+nsmsgsearchsession
+addscopeterm
+nsmsgsearchscopevalue
+scope
+nsimsgfolder
+folder
+scope
+nsmsgsearchscope
+allsearchablegroups
+nsassertion
+folder
+need
+folder
+searching
+all
+groups
+folder
+nserrornullpointer
+nsmsgsearchscopeterm
+pscopeterm
+nsmsgsearchscopeterm
+scope
+folder
+pscopeterm
+nserroroutofmemory
+mscopelist
+appendelement
+pscopeterm
+nsok
+nsimethodimp
+nsmsgsearchsession
+adddirectoryscopeterm
+nsmsgsearchscopevalue
+scope
+nsmsgsearchscopeterm
+pscopeterm
+nsmsgsearchscopeterm
+scope
+nsnull
+pscopeterm
+nserroroutofmemory
+mscopelist
+appendelement
+pscopeterm
+nsok
+nsimethodimp
+nsmsgsearchsession
+clearscopes
+destroyscopelist
+nsok
+nsimethodimp
+nsmsgsearchsession
+scopeusescustomheaders
+nsmsgsearchscopevalue
+scope
+selection
+prbool
+forfilters
+prbool
+retval
+nserrornotimplemented
+nsimethodimp
+nsmsgsearchsession
+isstringattribute
+nsmsgsearchattribvalue
+attrib
+prbool
+retval
+nsensurearg
+retval
+nserrornotimplemented
+nsimethodimp
+nsmsgsearchsession
+addallscopes
+nsmsgsearchscopevalue
+attrib
+nserrornotimplemented
+nsimethodimp
+nsmsgsearchsession
+search
+nsimsgwindow
+awindow
+nsresult
+err
+initialize
+nsensuresuccess
+err
+err
+mlistenerlist
+pruint
+count
+mlistenerlist
+count
+count
+pruint
+count
+nscomptr
+nsimsgsearchnotify
+listener
+mlistenerlist
+queryelementat
+nsgetiid
+nsimsgsearchnotify
+getteraddrefs
+listener
+listener
+listener
+onnewsearch
+mwindow
+awindow
+nssucceeded
+err
+err
+beginsearching
+err
+nsimethodimp
+nsmsgsearchsession
+interruptsearch
+mwindow
+enablefoldernotifications
+prtrue
+midxrunningscope
+mscopelist
+count
+releasefolderdbref
+midxrunningscope
+mwindow
+stopurls
+mbackgroundtimer
+mbackgroundtimer
+cancel
+notifylistenersdone
+nsok
+mbackgroundtimer
+nsnull
+nsok
+nsimethodimp
+nsmsgsearchsession
+pausesearch
+mbackgroundtimer
+mbackgroundtimer
+cancel
+msearchpaused
+prtrue
+nsok
+nserrorfailure
+nsimethodimp
+nsmsgsearchsession
+resumesearch
+msearchpaused
+msearchpaused
+prfalse
+starttimer
+nserrorfailure
+nsimethodimp
+nsmsgsearchsession
+getsearchparam
+asearchparam
+nserrornotimplemented
+nsimethodimp
+nsmsgsearchsession
+getsearchtype
+nsmsgsearchtype
+asearchtype
+nserrornotimplemented
+nsimethodimp
+nsmsgsearchsession
+setsearchparam
+nsmsgsearchtype
+type
+param
+nsmsgsearchtype
+retval
+nserrornotimplemented
+nsimethodimp
+nsmsgsearchsession
+getnumresults
+print
+anumresults
+nserrornotimplemented
+nsimethodimp
+nsmsgsearchsession
+setwindow
+nsimsgwindow
+awindow
+mwindow
+awindow
+nsok
+nsimethodimp
+nsmsgsearchsession
+getwindow
+nsimsgwindow
+awindowptr
+nsensurearg
+awindowptr
+awindowptr
+mwindow
+nsifaddref
+awindowptr
+nsok
+nsimethodimp
+nsmsgsearchsession
+onstartrunningurl
+nsiuri
+url
+nsok
+nsimethodimp
+nsmsgsearchsession
+onstoprunningurl
+nsiuri
+url
+nsresult
+aexitcode
+nscomptr
+nsimsgsearchadapter
+runningadapter
+nsresult
+rv
+getrunningadapter
+getteraddrefs
+runningadapter
+nssucceeded
+rv
+runningadapter
+runningadapter
+currenturldone
+aexitcode
+enablefoldernotifications
+prtrue
+releasefolderdbref
+midxrunningscope
+midxrunningscope
+mscopelist
+count
+getnexturl
+notifylistenersdone
+aexitcode
+nsok
+nsresult
+nsmsgsearchsession
+initialize
+nsmsgsearchscopeterm
+scopeterm
+nsnull
+nsresult
+err
+nsok
+pruint
+numterms
+mtermlist
+count
+numterms
+nsassertion
+numterms
+no
+terms
+to
+search
+numterms
+nsmsgerrornosearchvalues
+mscopelist
+count
+nsmsgerrorinvalidsearchscope
+murlqueue
+clear
+midxrunningscope
+mscopelist
+count
+nssucceeded
+err
+scopeterm
+mscopelist
+elementat
+err
+scopeterm
+initializeadapter
+mtermlist
+err
+nsresult
+nsmsgsearchsession
+beginsearching
+nsresult
+err
+nsok
+mwindow
+mwindow
+setstopped
+prfalse
+nsmsgsearchscopeterm
+scope
+mscopelist
+elementat
+scope
+mattribute
+nsmsgsearchscope
+news
+scope
+msearchserver
+err
+buildurlqueue
+scope
+mattribute
+nsmsgsearchscope
+onlinemail
+err
+buildurlqueue
+err
+searchwourls
+err
+nsresult
+nsmsgsearchsession
+buildurlqueue
+print
+mscopelist
+count
+nscomptr
+nsimsgsearchadapter
+adapter
+doqueryinterface
+mscopelist
+elementat
+madapter
+nsxpidlcstring
+url
+adapter
+adapter
+getencoding
+gettercopies
+url
+addurl
+url
+getnexturl
+nsok
+nsresult
+nsmsgsearchsession
+getnexturl
+nscstring
+nexturl
+nscomptr
+nsimsgmessageservice
+msgservice
+prbool
+stopped
+prfalse
+mwindow
+mwindow
+getstopped
+stopped
+stopped
+nsok
+murlqueue
+cstringat
+midxrunningscope
+nexturl
+nsmsgsearchscopeterm
+currentterm
+getrunningscope
+enablefoldernotifications
+prfalse
+nscomptr
+nsimsgfolder
+folder
+currentterm
+mfolder
+folder
+nsxpidlcstring
+folderuri
+folder
+geturi
+gettercopies
+folderuri
+nsresult
+rv
+getmessageservicefromuri
+folderuri
+get
+getteraddrefs
+msgservice
+nssucceeded
+rv
+msgservice
+currentterm
+msgservice
+search
+mwindow
+currentterm
+mfolder
+nexturl
+get
+rv
+nsok
+nsresult
+nsmsgsearchsession
+addurl
+url
+nscstring
+urlcstring
+url
+murlqueue
+appendcstring
+urlcstring
+nsok
+nsmsgsearchsession
+timercallback
+nsitimer
+atimer
+aclosure
+nsmsgsearchsession
+searchsession
+nsmsgsearchsession
+aclosure
+prbool
+done
+prbool
+stopped
+prfalse
+searchsession
+timeslice
+done
+searchsession
+mwindow
+searchsession
+mwindow
+getstopped
+stopped
+done
+stopped
+atimer
+cancel
+searchsession
+mbackgroundtimer
+nsnull
+searchsession
+notifylistenersdone
+nsok
+nsresult
+nsmsgsearchsession
+starttimer
+nsresult
+err
+prbool
+done
+mbackgroundtimer
+docreateinstance
+timer
+err
+mbackgroundtimer
+initwithfunccallback
+timercallback
+nsitimer
+typerepeatingslack
+timeslice
+done
+nsresult
+nsmsgsearchsession
+searchwourls
+enablefoldernotifications
+prfalse
+starttimer
+nsimethodimp
+nsmsgsearchsession
+getrunningadapter
+nsimsgsearchadapter
+asearchadapter
+nsensurearg
+asearchadapter
+nsmsgsearchscopeterm
+scope
+getrunningscope
+scope
+asearchadapter
+scope
+madapter
+nsaddref
+asearchadapter
+nsok
+asearchadapter
+nsnull
+nsok
+nsimethodimp
+nsmsgsearchsession
+addsearchhit
+nsimsgdbhdr
+header
+nsimsgfolder
+folder
+mlistenerlist
+pruint
+count
+mlistenerlist
+count
+count
+pruint
+count
+nscomptr
+nsimsgsearchnotify
+plistener
+mlistenerlist
+queryelementat
+nsgetiid
+nsimsgsearchnotify
+getteraddrefs
+plistener
+plistener
+plistener
+onsearchhit
+header
+folder
+nsok
+nsresult
+nsmsgsearchsession
+notifylistenersdone
+nsresult
+status
+mlistenerlist
+pruint
+count
+mlistenerlist
+count
+count
+pruint
+count
+nscomptr
+nsimsgsearchnotify
+plistener
+mlistenerlist
+queryelementat
+nsgetiid
+nsimsgsearchnotify
+getteraddrefs
+plistener
+plistener
+plistener
+onsearchdone
+status
+nsok
+nsimethodimp
+nsmsgsearchsession
+addresultelement
+nsmsgresultelement
+element
+nsassertion
+element
+no
+elements
+mresultlist
+appendelement
+element
+nsok
+nsmsgsearchsession
+destroyresultlist
+nsmsgresultelement
+result
+nsnull
+mresultlist
+count
+result
+mresultlist
+elementat
+result
+mresultlist
+clear
+nsmsgsearchsession
+destroyscopelist
+nsmsgsearchscopeterm
+scope
+print
+count
+mscopelist
+count
+print
+count
+scope
+mscopelist
+elementat
+scope
+mscopelist
+clear
+nsmsgsearchsession
+destroytermlist
+mtermlist
+clear
+nsmsgsearchscopeterm
+nsmsgsearchsession
+getrunningscope
+nsmsgsearchscopeterm
+mscopelist
+safeelementat
+midxrunningscope
+nsresult
+nsmsgsearchsession
+timeslice
+prbool
+adone
+timesliceserial
+adone
+nsmsgsearchsession
+releasefolderdbref
+nsmsgsearchscopeterm
+scope
+getrunningscope
+scope
+prbool
+isopen
+prfalse
+pruint
+flags
+nscomptr
+nsimsgfolder
+folder
+scope
+getfolder
+getteraddrefs
+folder
+nscomptr
+nsimsgmailsession
+mailsession
+dogetservice
+nsmsgmailsessioncontractid
+mailsession
+folder
+mailsession
+isfolderopeninwindow
+folder
+isopen
+folder
+getflags
+flags
+isopen
+msgfolderflaginbox
+flags
+folder
+setmsgdatabase
+nsnull
+nsresult
+nsmsgsearchsession
+timesliceserial
+prbool
+adone
+nsensurearg
+adone
+nsresult
+rv
+nsok
+nsmsgsearchscopeterm
+scope
+getrunningscope
+scope
+rv
+scope
+timeslice
+adone
+nsfailed
+rv
+adone
+prtrue
+adone
+nsfailed
+rv
+enablefoldernotifications
+prtrue
+releasefolderdbref
+midxrunningscope
+enablefoldernotifications
+prfalse
+adone
+prfalse
+rv
+adone
+prtrue
+nsok
+nsmsgsearchsession
+enablefoldernotifications
+prbool
+aenable
+nsmsgsearchscopeterm
+scope
+getrunningscope
+scope
+nscomptr
+nsimsgfolder
+folder
+scope
+getfolder
+getteraddrefs
+folder
+folder
+folder
+enablenotifications
+nsimsgfolder
+allmessagecountnotifications
+aenable
+prfalse
+nsimethodimp
+nsmsgsearchsession
+addfolderlistener
+nsifolderlistener
+listener
+mfolderlistenerlist
+appendobject
+listener
+nsok
+nserrorfailure
+nsimethodimp
+nsmsgsearchsession
+removefolderlistener
+nsifolderlistener
+listener
+mfolderlistenerlist
+removeobject
+listener
+nsok
+nsimethodimp
+nsmsgsearchsession
+onitemevent
+nsifolder
+afolder
+nsiatom
+aevent
+print
+count
+mfolderlistenerlist
+count
+print
+count
+nsifolderlistener
+listener
+mfolderlistenerlist
+listener
+listener
+onitemevent
+afolder
+aevent
+nsok
+nsimethodimp
+nsmsgsearchsession
+onitemadded
+nsisupports
+parentitem
+nsisupports
+item
+viewstring
+nsok
+nsimethodimp
+nsmsgsearchsession
+onitemremoved
+nsisupports
+parentitem
+nsisupports
+item
+viewstring
+nsok
+nsimethodimp
+nsmsgsearchsession
+onitempropertychanged
+nsisupports
+item
+nsiatom
+property
+oldvalue
+newvalue
+nsok
+nsimethodimp
+nsmsgsearchsession
+onitemintpropertychanged
+nsisupports
+item
+nsiatom
+property
+print
+oldvalue
+print
+newvalue
+nsok
+nsimethodimp
+nsmsgsearchsession
+onitemboolpropertychanged
+nsisupports
+item
+nsiatom
+property
+prbool
+oldvalue
+prbool
+newvalue
+nsok
+nsimethodimp
+nsmsgsearchsession
+onitemunicharpropertychanged
+nsisupports
+item
+nsiatom
+property
+prunichar
+oldvalue
+prunichar
+newvalue
+nsok
+nsimethodimp
+nsmsgsearchsession
+onitempropertyflagchanged
+nsisupports
+item
+nsiatom
+property
+pruint
+oldvalue
+pruint
+newvalue
+nsok
+nsimethodimp
+nsmsgsearchsession
+matchhdr
+nsimsgdbhdr
+amsghdr
+nsimsgdatabase
+adatabase
+prbool
+aresult
+nsmsgsearchscopeterm
+scope
+nsmsgsearchscopeterm
+mscopelist
+safeelementat
+scope
+scope
+madapter
+nsxpidlstring
+nullcharset
+foldercharset
+scope
+madapter
+getsearchcharsets
+gettercopies
+nullcharset
+gettercopies
+foldercharset
+nsconvertucstoutf
+charset
+foldercharset
+get
+nsmsgsearchofflinemail
+matchtermsforsearch
+amsghdr
+mtermlist
+charset
+get
+scope
+adatabase
+aresult
+nsok
\ No newline at end of file
@@ -0,0 +1,2714 @@
+msgcore
+nsxpidlstring
+nsreadableutils
+nsmsgsearchcore
+nsimsgsearchsession
+nsmsgutils
+nsimsgdatabase
+nsmsgsearchterm
+nsmsgsearchscopeterm
+nsmsgbodyhandler
+nsmsgresultelement
+nsimsgimapmailfolder
+nsmsgsearchimap
+nsmsglocalsearch
+nsmsgsearchnews
+nsmsgsearchvalue
+nsmsgin
+nsimimeconverter
+nsmsgmimecid
+nstime
+nsiprefbranch
+nsiprefservice
+nsimsgfilterplugin
+nsirdfservice
+nsisupportsobsolete
+define
+mailnewscustomheaders
+mailnews
+customheaders
+nsmsgsearchattribvalue
+attrib
+attribname
+nsmsgsearchattribentry
+nsmsgsearchattribentry
+searchattribentrytable
+nsmsgsearchattrib
+subject
+subject
+nsmsgsearchattrib
+sender
+from
+nsmsgsearchattrib
+body
+body
+nsmsgsearchattrib
+date
+date
+nsmsgsearchattrib
+priority
+priority
+nsmsgsearchattrib
+msgstatus
+status
+nsmsgsearchattrib
+to
+to
+nsmsgsearchattrib
+cc
+cc
+nsmsgsearchattrib
+toorcc
+to
+cc
+nsmsgsearchattrib
+ageindays
+age
+in
+days
+nsmsgsearchattrib
+label
+label
+nsmsgsearchattrib
+sender
+from
+in
+ab
+nsmsgsearchattrib
+junkstatus
+junk
+status
+nsmsgsearchattrib
+hasattachmentstatus
+has
+attachment
+status
+nsresult
+nsmsggetattributefromstring
+print
+attrib
+nsensureargpointer
+nsensureargpointer
+attrib
+prbool
+found
+prfalse
+idxattrib
+idxattrib
+searchattribentrytable
+nsmsgsearchattribentry
+idxattrib
+plstrcasecmp
+searchattribentrytable
+idxattrib
+attribname
+found
+prtrue
+attrib
+searchattribentrytable
+idxattrib
+attrib
+found
+nsresult
+rv
+prbool
+goodhdr
+isrfcheaderfieldname
+goodhdr
+goodhdr
+nsmsginvalidcustomheader
+attrib
+nsmsgsearchattrib
+otherheader
+nscomptr
+nsiprefservice
+prefservice
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+rv
+prefservice
+getbranch
+nsnull
+getteraddrefs
+prefbranch
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+headers
+prefbranch
+getcharpref
+mailnewscustomheaders
+gettercopies
+headers
+headers
+isempty
+headersstring
+tonewcstring
+headers
+nscautostring
+hdrstr
+hdrstr
+adopt
+headersstring
+hdrstr
+stripwhitespace
+newstr
+nsnull
+token
+nscrt
+strtok
+headersstring
+newstr
+pruint
+token
+nscrt
+strcasecmp
+token
+attrib
+found
+prtrue
+token
+nscrt
+strtok
+newstr
+newstr
+found
+nsok
+nserrorinvalidarg
+nsresult
+nsmsggetstringforattribute
+print
+attrib
+nsensureargpointer
+prbool
+found
+prfalse
+idxattrib
+idxattrib
+searchattribentrytable
+nsmsgsearchattribentry
+idxattrib
+attrib
+searchattribentrytable
+idxattrib
+attrib
+found
+prtrue
+searchattribentrytable
+idxattrib
+attribname
+nsok
+nsmsgsearchopvalue
+op
+opname
+nsmsgsearchoperatorentry
+nsmsgsearchoperatorentry
+searchoperatorentrytable
+nsmsgsearchop
+contains
+contains
+nsmsgsearchop
+doesntcontain
+doesn
+contain
+nsmsgsearchop
+is
+is
+nsmsgsearchop
+isnt
+isn
+nsmsgsearchop
+isempty
+is
+empty
+nsmsgsearchop
+isbefore
+is
+before
+nsmsgsearchop
+isafter
+is
+after
+nsmsgsearchop
+ishigherthan
+is
+higher
+than
+nsmsgsearchop
+islowerthan
+is
+lower
+than
+nsmsgsearchop
+beginswith
+begins
+with
+nsmsgsearchop
+endswith
+ends
+with
+nsmsgsearchop
+isinab
+is
+in
+ab
+nsmsgsearchop
+isntinab
+isn
+in
+ab
+nsmsgsearchop
+isgreaterthan
+is
+greater
+than
+nsmsgsearchop
+islessthan
+is
+less
+than
+nsresult
+nsmsggetoperatorfromstring
+print
+op
+nsensureargpointer
+nsensureargpointer
+op
+prbool
+found
+prfalse
+idxop
+idxop
+searchoperatorentrytable
+nsmsgsearchoperatorentry
+idxop
+plstrcasecmp
+searchoperatorentrytable
+idxop
+opname
+found
+prtrue
+op
+searchoperatorentrytable
+idxop
+op
+found
+nsok
+nserrorinvalidarg
+nsresult
+nsmsggetstringforoperator
+print
+op
+nsensureargpointer
+prbool
+found
+prfalse
+idxop
+idxop
+searchoperatorentrytable
+nsmsgsearchoperatorentry
+idxop
+op
+searchoperatorentrytable
+idxop
+op
+found
+prtrue
+searchoperatorentrytable
+idxop
+opname
+found
+nsok
+nserrorinvalidarg
+nsmsggetuntranslatedstatusname
+uint
+nscstring
+outname
+tmpoutname
+define
+msgstatusmask
+msgflagread
+msgflagreplied
+msgflagforwarded
+msgflagnew
+pruint
+maskout
+msgstatusmask
+maskout
+msgflagnew
+maskout
+msgflagnew
+maskout
+msgflagreplied
+maskout
+msgflagforwarded
+maskout
+msgflagreplied
+msgflagforwarded
+maskout
+msgflagforwarded
+maskout
+msgflagforwarded
+maskout
+msgflagreplied
+maskout
+msgflagreplied
+maskout
+msgflagread
+tmpoutname
+read
+msgflagreplied
+tmpoutname
+replied
+msgflagforwarded
+tmpoutname
+forwarded
+msgflagforwarded
+msgflagreplied
+tmpoutname
+replied
+forwarded
+msgflagnew
+tmpoutname
+tmpoutname
+outname
+tmpoutname
+print
+nsmsggetstatusvaluefromname
+name
+strcmp
+read
+name
+msgflagread
+strcmp
+replied
+name
+msgflagreplied
+strcmp
+forwarded
+name
+msgflagforwarded
+strcmp
+replied
+forwarded
+name
+msgflagforwarded
+msgflagreplied
+strcmp
+name
+msgflagnew
+nsmsgsearchterm
+nsmsgsearchterm
+mvalue
+nsnull
+mvalue
+attribute
+mvalue
+priority
+mattribute
+nsmsgsearchattrib
+default
+mbeginsgrouping
+prfalse
+mendsgrouping
+prfalse
+nsmsgsearchterm
+nsmsgsearchterm
+nsmsgsearchattribvalue
+attrib
+nsmsgsearchopvalue
+op
+nsimsgsearchvalue
+val
+nsmsgsearchbooleanoperator
+boolop
+arbitraryheader
+moperator
+op
+mattribute
+attrib
+mbooleanop
+boolop
+attrib
+nsmsgsearchattrib
+otherheader
+attrib
+nsmsgsearchattrib
+knummsgsearchattributes
+arbitraryheader
+marbitraryheader
+arbitraryheader
+nsmsgresultelement
+assignvalues
+val
+mvalue
+nsmsgsearchterm
+nsmsgsearchterm
+isstringattribute
+mattribute
+mvalue
+recycle
+mvalue
+nsimplisupports
+nsmsgsearchterm
+nsimsgsearchterm
+nsmsgsearchterm
+escapequotesinstr
+str
+numquotes
+strptr
+str
+strptr
+strptr
+strptr
+numquotes
+escapedstrlen
+plstrlen
+str
+numquotes
+escapedstr
+prmalloc
+escapedstrlen
+escapedstr
+destptr
+destptr
+escapedstr
+str
+str
+str
+destptr
+destptr
+str
+destptr
+escapedstr
+nsresult
+nsmsgsearchterm
+outputvalue
+nscstring
+outputstr
+isstringattribute
+mattribute
+mvalue
+prbool
+quoteval
+prfalse
+plstrchr
+mvalue
+mvalue
+mvalue
+quoteval
+prtrue
+outputstr
+plstrchr
+mvalue
+escapedstring
+nsmsgsearchterm
+escapequotesinstr
+mvalue
+escapedstring
+outputstr
+escapedstring
+prfree
+escapedstring
+outputstr
+mvalue
+quoteval
+outputstr
+mattribute
+nsmsgsearchattrib
+date
+prexplodedtime
+exploded
+prexplodetime
+mvalue
+date
+prlocaltimeparameters
+exploded
+datebuf
+prformattimeusenglish
+datebuf
+datebuf
+exploded
+outputstr
+datebuf
+nsmsgsearchattrib
+ageindays
+outputstr
+appendint
+mvalue
+age
+nsmsgsearchattrib
+label
+outputstr
+appendint
+mvalue
+label
+nsmsgsearchattrib
+junkstatus
+outputstr
+appendint
+mvalue
+junkstatus
+nsmsgsearchattrib
+msgstatus
+nscautostring
+status
+nsmsggetuntranslatedstatusname
+mvalue
+msgstatus
+status
+outputstr
+status
+nsmsgsearchattrib
+priority
+nsautostring
+priority
+nsmsggetuntranslatedpriorityname
+mvalue
+priority
+priority
+outputstr
+appendwithconversion
+priority
+nsmsgsearchattrib
+hasattachmentstatus
+outputstr
+append
+nsassertion
+prfalse
+trying
+to
+output
+invalid
+attribute
+nsok
+nsresult
+nsmsgsearchterm
+enstreamnew
+nscstring
+outstream
+attrib
+operatorstr
+nscautostring
+outputstr
+nsresult
+ret
+ret
+nsmsggetstringforattribute
+mattribute
+attrib
+ret
+nsok
+ret
+mattribute
+nsmsgsearchattrib
+otherheader
+mattribute
+nsmsgsearchattrib
+knummsgsearchattributes
+outputstr
+outputstr
+marbitraryheader
+outputstr
+outputstr
+attrib
+outputstr
+ret
+nsmsggetstringforoperator
+moperator
+operatorstr
+ret
+nsok
+ret
+outputstr
+operatorstr
+outputstr
+outputvalue
+outputstr
+outstream
+outputstr
+nsok
+nsresult
+nsmsgsearchterm
+parsevalue
+instream
+isstringattribute
+mattribute
+prbool
+quoteval
+prfalse
+nsstring
+isspace
+instream
+instream
+instream
+quoteval
+prtrue
+instream
+valuelen
+plstrlen
+instream
+quoteval
+instream
+valuelen
+valuelen
+mvalue
+prmalloc
+valuelen
+plstrncpy
+mvalue
+instream
+valuelen
+mvalue
+valuelen
+mattribute
+nsmsgsearchattrib
+date
+prparsetimestring
+instream
+prfalse
+mvalue
+date
+nsmsgsearchattrib
+msgstatus
+mvalue
+msgstatus
+nsmsggetstatusvaluefromname
+instream
+nsmsgsearchattrib
+priority
+nsmsggetpriorityfromstring
+instream
+mvalue
+priority
+nsmsgsearchattrib
+ageindays
+mvalue
+age
+atoi
+instream
+nsmsgsearchattrib
+label
+mvalue
+label
+atoi
+instream
+nsmsgsearchattrib
+junkstatus
+mvalue
+junkstatus
+atoi
+instream
+nsmsgsearchattrib
+hasattachmentstatus
+mvalue
+msgstatus
+msgflagattachment
+nsassertion
+prfalse
+invalid
+attribute
+parsing
+search
+term
+value
+mvalue
+attribute
+mattribute
+nsok
+nsresult
+nsmsgsearchterm
+parseoperator
+instream
+nsmsgsearchopvalue
+value
+nsensureargpointer
+value
+print
+operatorval
+nsstring
+isspace
+instream
+instream
+commasep
+plstrchr
+instream
+commasep
+commasep
+nsresult
+err
+nsmsggetoperatorfromstring
+instream
+operatorval
+value
+nsmsgsearchopvalue
+operatorval
+err
+nsresult
+nsmsgsearchterm
+parseattribute
+instream
+nsmsgsearchattribvalue
+attrib
+nsstring
+isspace
+instream
+instream
+prbool
+quoteval
+prfalse
+instream
+quoteval
+prtrue
+instream
+separator
+strchr
+instream
+quoteval
+separator
+separator
+print
+attributeval
+nsresult
+rv
+nsmsggetattributefromstring
+instream
+attributeval
+nsensuresuccess
+rv
+rv
+attrib
+nsmsgsearchattribvalue
+attributeval
+attrib
+nsmsgsearchattrib
+otherheader
+attrib
+nsmsgsearchattrib
+knummsgsearchattributes
+marbitraryheader
+instream
+rv
+nsresult
+nsmsgsearchterm
+destreamnew
+instream
+print
+commasep
+plstrchr
+instream
+nsresult
+rv
+parseattribute
+instream
+mattribute
+nsensuresuccess
+rv
+rv
+commasep
+nserrorinvalidarg
+secondcommasep
+plstrchr
+commasep
+commasep
+rv
+parseoperator
+commasep
+moperator
+nsensuresuccess
+rv
+rv
+secondcommasep
+parsevalue
+secondcommasep
+nsok
+nsmsgsearchterm
+stripquotedprintable
+src
+dest
+src
+srcidx
+destidx
+src
+srcidx
+src
+srcidx
+token
+src
+srcidx
+token
+token
+token
+token
+token
+token
+token
+token
+token
+dest
+destidx
+src
+srcidx
+token
+token
+token
+token
+token
+token
+token
+token
+token
+dest
+destidx
+src
+srcidx
+dest
+destidx
+srcidx
+dest
+destidx
+src
+srcidx
+dest
+destidx
+src
+srcidx
+nsresult
+nsmsgsearchterm
+matcharbitraryheader
+nsimsgsearchscopeterm
+scope
+pruint
+offset
+pruint
+length
+charset
+prbool
+charsetoverride
+nsimsgdbhdr
+msg
+nsimsgdatabase
+db
+headers
+pruint
+headerssize
+prbool
+forfiltering
+prbool
+presult
+nsensureargpointer
+presult
+presult
+prfalse
+nsresult
+err
+nsok
+prbool
+result
+nsmsgbodyhandler
+bodyhandler
+nsmsgbodyhandler
+scope
+offset
+length
+msg
+db
+headers
+headerssize
+forfiltering
+bodyhandler
+nserroroutofmemory
+bodyhandler
+setstripheaders
+prfalse
+getmatchallbeforedeciding
+result
+kbufsize
+buf
+prmalloc
+kbufsize
+buf
+prbool
+searchingheaders
+prtrue
+searchingheaders
+bodyhandler
+getnextline
+buf
+kbufsize
+bufend
+buf
+plstrlen
+buf
+headerlength
+marbitraryheader
+length
+plstrncasecmp
+buf
+marbitraryheader
+get
+headerlength
+headervalue
+buf
+headerlength
+headervalue
+bufend
+headervalue
+headervalue
+headervalue
+bufend
+nsstring
+isspace
+headervalue
+headervalue
+end
+bufend
+end
+headervalue
+nsstring
+isspace
+end
+end
+end
+headervalue
+bufend
+headervalue
+prbool
+result
+err
+matchrfcstring
+headervalue
+charset
+charsetoverride
+result
+result
+result
+searchingheaders
+prfalse
+result
+result
+nsassertion
+prfalse
+error
+matching
+arbitrary
+headers
+emptymessageline
+buf
+searchingheaders
+prfalse
+bodyhandler
+prfree
+buf
+presult
+result
+err
+bodyhandler
+nserroroutofmemory
+nsresult
+nsmsgsearchterm
+matchbody
+nsimsgsearchscopeterm
+scope
+pruint
+offset
+pruint
+length
+foldercharset
+nsimsgdbhdr
+msg
+nsimsgdatabase
+db
+prbool
+presult
+nsensureargpointer
+presult
+nsresult
+err
+nsok
+prbool
+result
+prfalse
+presult
+prfalse
+length
+moperator
+nsmsgsearchop
+is
+moperator
+nsmsgsearchop
+isnt
+length
+plstrlen
+mvalue
+nsmsgbodyhandler
+bodyhan
+nsmsgbodyhandler
+scope
+offset
+length
+msg
+db
+bodyhan
+nserroroutofmemory
+kbufsize
+buf
+prmalloc
+kbufsize
+buf
+prbool
+endoffile
+prfalse
+uint
+lines
+prbool
+boolcontinueloop
+getmatchallbeforedeciding
+boolcontinueloop
+result
+boolcontinueloop
+prbool
+isquotedprintable
+plstrchr
+mvalue
+nsnull
+endoffile
+result
+boolcontinueloop
+bodyhan
+getnextline
+buf
+kbufsize
+isquotedprintable
+stripquotedprintable
+buf
+nscstring
+compare
+buf
+compare
+isempty
+startchar
+compare
+charat
+startchar
+nscrt
+cr
+startchar
+nscrt
+lf
+err
+matchstring
+compare
+get
+foldercharset
+result
+lines
+endoffile
+prtrue
+ifdef
+doin
+conv
+intldestroycharcodeconverter
+conv
+endif
+prfreeif
+buf
+bodyhan
+err
+nserroroutofmemory
+presult
+result
+err
+nsresult
+nsmsgsearchterm
+initializeaddressbook
+nsresult
+rv
+nsok
+mdirectory
+nsxpidlcstring
+diruri
+mdirectory
+getdiruri
+gettercopies
+diruri
+strcmp
+diruri
+get
+mvalue
+mdirectory
+nsnull
+mdirectory
+nscomptr
+nsirdfservice
+rdfservice
+dogetservice
+rdf
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+resource
+rv
+rdfservice
+getresource
+nsdependentcstring
+mvalue
+getteraddrefs
+resource
+nsensuresuccess
+rv
+rv
+mdirectory
+doqueryinterface
+resource
+rv
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsmsgsearchterm
+matchinaddressbook
+aaddress
+prbool
+presult
+nsresult
+rv
+initializeaddressbook
+presult
+prfalse
+mdirectory
+prbool
+cardexists
+prfalse
+rv
+mdirectory
+hascardforemailaddress
+aaddress
+cardexists
+moperator
+nsmsgsearchop
+isinab
+cardexists
+moperator
+nsmsgsearchop
+isntinab
+cardexists
+presult
+prtrue
+rv
+nsresult
+nsmsgsearchterm
+matchrfcstring
+rfcstring
+charset
+prbool
+charsetoverride
+prbool
+presult
+nsensureargpointer
+presult
+nsensureargpointer
+rfcstring
+nscomptr
+nsimimeconverter
+mimeconverter
+dogetservice
+nsmimeconvertercontractid
+stringtomatch
+nsresult
+res
+mimeconverter
+decodemimeheader
+rfcstring
+stringtomatch
+charset
+charsetoverride
+prfalse
+mattribute
+nsmsgsearchattrib
+sender
+moperator
+nsmsgsearchop
+isinab
+moperator
+nsmsgsearchop
+isntinab
+res
+matchinaddressbook
+stringtomatch
+stringtomatch
+rfcstring
+presult
+res
+matchstring
+stringtomatch
+stringtomatch
+rfcstring
+nsnull
+presult
+prfree
+stringtomatch
+res
+nsresult
+nsmsgsearchterm
+matchstring
+stringtomatch
+charset
+prbool
+presult
+nsensureargpointer
+presult
+prbool
+result
+prfalse
+nsresult
+err
+nsok
+nscautostring
+nstr
+utf
+stringtomatch
+nsmsgsearchop
+isempty
+moperator
+nstr
+mvalue
+charset
+nsnull
+nsstring
+out
+converttounicode
+charset
+stringtomatch
+stringtomatch
+out
+utf
+tonewutfstring
+out
+moperator
+nsmsgsearchop
+contains
+nsnull
+utf
+nstr
+get
+plstrcasestr
+utf
+nstr
+get
+result
+prtrue
+nsmsgsearchop
+doesntcontain
+nsnull
+utf
+nstr
+get
+plstrcasestr
+utf
+nstr
+get
+result
+prtrue
+nsmsgsearchop
+is
+utf
+nstr
+get
+nstr
+equalswithconversion
+utf
+prtrue
+result
+prtrue
+utf
+result
+prtrue
+nsmsgsearchop
+isnt
+utf
+nstr
+get
+nstr
+equalswithconversion
+utf
+prtrue
+result
+prtrue
+utf
+result
+prtrue
+nsmsgsearchop
+isempty
+plstrlen
+utf
+result
+prtrue
+nsmsgsearchop
+beginswith
+ifdef
+doinyet
+nsnull
+nstr
+nsnull
+utf
+intlstrbeginwith
+csid
+utf
+nstr
+result
+prtrue
+plstrncmp
+utf
+nstr
+get
+nstr
+length
+result
+prtrue
+endif
+nsmsgsearchop
+endswith
+pruint
+searchstrlen
+pruint
+plstrlen
+utf
+nstr
+length
+searchstrlen
+print
+sourcestroffset
+searchstrlen
+nstr
+length
+plstrcmp
+utf
+sourcestroffset
+nstr
+get
+result
+prtrue
+ifdef
+doinyet
+nsnull
+nstr
+nsnull
+utf
+intlstrendwith
+csid
+utf
+nstr
+result
+prtrue
+endif
+nsassertion
+prfalse
+invalid
+matching
+search
+results
+utf
+nsnull
+utf
+stringtomatch
+free
+utf
+presult
+result
+err
+nsresult
+nsmsgsearchterm
+getmatchallbeforedeciding
+prbool
+aresult
+moperator
+nsmsgsearchop
+doesntcontain
+moperator
+nsmsgsearchop
+isnt
+aresult
+prtrue
+aresult
+prfalse
+nsok
+nsresult
+nsmsgsearchterm
+matchrfcstring
+charset
+prbool
+charsetoverride
+prbool
+presult
+nsensureargpointer
+presult
+presult
+prfalse
+prbool
+result
+nsresult
+err
+initheaderaddressparser
+nsfailed
+err
+err
+names
+nsnull
+addresses
+nsnull
+prbool
+boolcontinueloop
+getmatchallbeforedeciding
+boolcontinueloop
+result
+boolcontinueloop
+pruint
+count
+nsresult
+parseerr
+mheaderaddressparser
+parseheaderaddresses
+charset
+names
+addresses
+count
+nssucceeded
+parseerr
+count
+nsassertion
+names
+couldn
+get
+names
+nsassertion
+addresses
+couldn
+get
+addresses
+names
+addresses
+err
+nscautostring
+walknames
+nscautostring
+walkaddresses
+print
+namepos
+print
+addresspos
+pruint
+count
+result
+boolcontinueloop
+walknames
+names
+namepos
+walkaddresses
+addresses
+addresspos
+mattribute
+nsmsgsearchattrib
+sender
+moperator
+nsmsgsearchop
+isinab
+moperator
+nsmsgsearchop
+isntinab
+err
+matchrfcstring
+walkaddresses
+get
+charset
+charsetoverride
+result
+err
+matchrfcstring
+walknames
+get
+charset
+charsetoverride
+result
+boolcontinueloop
+result
+err
+matchrfcstring
+walkaddresses
+get
+charset
+charsetoverride
+result
+namepos
+walknames
+length
+addresspos
+walkaddresses
+length
+prfree
+names
+prfree
+addresses
+presult
+result
+err
+nsresult
+nsmsgsearchterm
+getlocaltimes
+prtime
+prtime
+prexplodedtime
+aexploded
+prexplodedtime
+bexploded
+prexplodetime
+prlocaltimeparameters
+aexploded
+prexplodetime
+prlocaltimeparameters
+bexploded
+nsok
+nsresult
+nsmsgsearchterm
+matchdate
+prtime
+datetomatch
+prbool
+presult
+nsensureargpointer
+presult
+nsresult
+err
+nsok
+prbool
+result
+prfalse
+nstime
+tdate
+datetomatch
+moperator
+nsmsgsearchop
+isbefore
+tdate
+nstime
+mvalue
+date
+result
+prtrue
+nsmsgsearchop
+isafter
+nstime
+adjusteddate
+nstime
+mvalue
+date
+adjusteddate
+tdate
+adjusteddate
+result
+prtrue
+nsmsgsearchop
+is
+prexplodedtime
+tmtomatch
+tmthis
+nsok
+getlocaltimes
+datetomatch
+mvalue
+date
+tmtomatch
+tmthis
+tmthis
+tmyear
+tmtomatch
+tmyear
+tmthis
+tmmonth
+tmtomatch
+tmmonth
+tmthis
+tmmday
+tmtomatch
+tmmday
+result
+prtrue
+nsmsgsearchop
+isnt
+prexplodedtime
+tmtomatch
+tmthis
+nsok
+getlocaltimes
+datetomatch
+mvalue
+date
+tmtomatch
+tmthis
+tmthis
+tmyear
+tmtomatch
+tmyear
+tmthis
+tmmonth
+tmtomatch
+tmmonth
+tmthis
+tmmday
+tmtomatch
+tmmday
+result
+prtrue
+nsassertion
+prfalse
+invalid
+compare
+op
+dates
+presult
+result
+err
+nsresult
+nsmsgsearchterm
+matchage
+prtime
+msgdate
+prbool
+presult
+nsensureargpointer
+presult
+prbool
+result
+prfalse
+nsresult
+err
+nsok
+prtime
+now
+prnow
+prtime
+cutoffday
+print
+microsecondspersecond
+secondsindays
+microsecondsindays
+llil
+microsecondspersecond
+prusecpersec
+lluil
+secondsindays
+mvalue
+age
+llmul
+microsecondsindays
+secondsindays
+microsecondspersecond
+llsub
+cutoffday
+now
+microsecondsindays
+moperator
+nsmsgsearchop
+isgreaterthan
+llcmp
+msgdate
+cutoffday
+result
+prtrue
+nsmsgsearchop
+islessthan
+llcmp
+msgdate
+cutoffday
+result
+prtrue
+nsmsgsearchop
+is
+prexplodedtime
+msgdateexploded
+prexplodedtime
+cutoffdayexploded
+nssucceeded
+getlocaltimes
+msgdate
+cutoffday
+msgdateexploded
+cutoffdayexploded
+msgdateexploded
+tmmday
+cutoffdayexploded
+tmmday
+msgdateexploded
+tmmonth
+cutoffdayexploded
+tmmonth
+msgdateexploded
+tmyear
+cutoffdayexploded
+tmyear
+result
+prtrue
+nsassertion
+prfalse
+invalid
+compare
+op
+msg
+age
+presult
+result
+err
+nsresult
+nsmsgsearchterm
+matchsize
+pruint
+sizetomatch
+prbool
+presult
+nsensureargpointer
+presult
+prbool
+result
+prfalse
+moperator
+nsmsgsearchop
+isgreaterthan
+sizetomatch
+mvalue
+size
+result
+prtrue
+nsmsgsearchop
+islessthan
+sizetomatch
+mvalue
+size
+result
+prtrue
+nsmsgsearchop
+is
+sizetomatch
+mvalue
+size
+result
+prtrue
+presult
+result
+nsok
+nsresult
+nsmsgsearchterm
+matchjunkstatus
+ajunkscore
+prbool
+presult
+nsensureargpointer
+presult
+nsmsgjunkstatus
+junkstatus
+ajunkscore
+ajunkscore
+atoi
+ajunkscore
+junkstatus
+nsijunkmailplugin
+junk
+junkstatus
+nsijunkmailplugin
+good
+junkstatus
+nsijunkmailplugin
+good
+nsresult
+rv
+nsok
+prbool
+matches
+junkstatus
+mvalue
+junkstatus
+moperator
+nsmsgsearchop
+is
+nsmsgsearchop
+isnt
+matches
+matches
+rv
+nserrorfailure
+nsassertion
+prfalse
+invalid
+compare
+op
+junk
+status
+presult
+matches
+rv
+nsresult
+nsmsgsearchterm
+matchlabel
+nsmsglabelvalue
+alabelvalue
+prbool
+presult
+nsensureargpointer
+presult
+prbool
+result
+prfalse
+moperator
+nsmsgsearchop
+is
+mvalue
+label
+alabelvalue
+result
+prtrue
+mvalue
+label
+alabelvalue
+result
+prtrue
+presult
+result
+nsok
+nsresult
+nsmsgsearchterm
+matchstatus
+pruint
+statustomatch
+prbool
+presult
+nsensureargpointer
+presult
+nsresult
+rv
+nsok
+prbool
+matches
+statustomatch
+mvalue
+msgstatus
+moperator
+nsmsgsearchop
+is
+nsmsgsearchop
+isnt
+matches
+matches
+rv
+nserrorfailure
+nserror
+invalid
+compare
+op
+msg
+status
+presult
+matches
+rv
+nsresult
+nsmsgsearchterm
+matchpriority
+nsmsgpriorityvalue
+prioritytomatch
+prbool
+presult
+nsensureargpointer
+presult
+nsresult
+err
+nsok
+prbool
+result
+nsok
+prioritytomatch
+nsmsgpriority
+none
+nsmsgpriority
+normal
+prioritytomatch
+mvalue
+priority
+moperator
+nsmsgsearchop
+ishigherthan
+result
+prtrue
+nsmsgsearchop
+islowerthan
+result
+prtrue
+nsmsgsearchop
+is
+result
+prtrue
+result
+prfalse
+err
+nserrorfailure
+nsassertion
+prfalse
+invalid
+match
+presult
+result
+err
+nsresult
+nsmsgsearchterm
+initheaderaddressparser
+nsresult
+res
+nsok
+mheaderaddressparser
+mheaderaddressparser
+dogetservice
+nsmailnewsmimeheaderparsercontractid
+res
+res
+nsimplgetset
+nsmsgsearchterm
+attrib
+nsmsgsearchattribvalue
+mattribute
+nsimplgetset
+nsmsgsearchterm
+op
+nsmsgsearchopvalue
+moperator
+nsimethodimp
+nsmsgsearchterm
+getvalue
+nsimsgsearchvalue
+aresult
+nsensureargpointer
+aresult
+aresult
+nsmsgsearchvalueimpl
+mvalue
+nsifaddref
+aresult
+nsok
+nsimethodimp
+nsmsgsearchterm
+setvalue
+nsimsgsearchvalue
+avalue
+nsmsgresultelement
+assignvalues
+avalue
+mvalue
+nsok
+nsimethodimp
+nsmsgsearchterm
+getbooleanand
+prbool
+aresult
+nsensureargpointer
+aresult
+aresult
+mbooleanop
+nsmsgsearchbooleanop
+booleanand
+nsok
+nsimethodimp
+nsmsgsearchterm
+setbooleanand
+prbool
+avalue
+avalue
+mbooleanop
+nsmsgsearchbooleanoperator
+nsmsgsearchbooleanop
+booleanand
+mbooleanop
+nsmsgsearchbooleanoperator
+nsmsgsearchbooleanop
+booleanor
+nsok
+nsimethodimp
+nsmsgsearchterm
+getarbitraryheader
+aresult
+nsensureargpointer
+aresult
+aresult
+tonewcstring
+marbitraryheader
+nsok
+nsimethodimp
+nsmsgsearchterm
+setarbitraryheader
+avalue
+marbitraryheader
+avalue
+nsok
+nsimplgetset
+nsmsgsearchterm
+beginsgrouping
+prbool
+mendsgrouping
+nsimplgetset
+nsmsgsearchterm
+endsgrouping
+prbool
+mendsgrouping
+nsmsgsearchscopeterm
+nsmsgsearchscopeterm
+nsimsgsearchsession
+session
+nsmsgsearchscopevalue
+attribute
+nsimsgfolder
+folder
+mattribute
+attribute
+mfolder
+folder
+msearchserver
+prtrue
+msearchsession
+getteraddrefs
+nsgetweakreference
+session
+nsmsgsearchscopeterm
+nsmsgsearchscopeterm
+msearchserver
+prtrue
+nsmsgsearchscopeterm
+nsmsgsearchscopeterm
+nsimplisupports
+nsmsgsearchscopeterm
+nsimsgsearchscopeterm
+nsimethodimp
+nsmsgsearchscopeterm
+getfolder
+nsimsgfolder
+aresult
+nsifaddref
+aresult
+mfolder
+nsok
+nsimethodimp
+nsmsgsearchscopeterm
+getsearchsession
+nsimsgsearchsession
+aresult
+nsensureargpointer
+aresult
+nscomptr
+nsimsgsearchsession
+searchsession
+doqueryreferent
+msearchsession
+nsifaddref
+aresult
+searchsession
+nsok
+nsresult
+nsmsgsearchscopeterm
+getmailpath
+nsifilespec
+afilespec
+mfolder
+mfolder
+getpath
+afilespec
+nserrornullpointer
+nsresult
+nsmsgsearchscopeterm
+timeslice
+prbool
+adone
+madapter
+search
+adone
+nsresult
+nsmsgsearchscopeterm
+initializeadapter
+nsisupportsarray
+termlist
+madapter
+nsok
+nsresult
+err
+nsok
+mattribute
+nsmsgsearchscope
+onlinemail
+madapter
+nsmsgsearchonlinemail
+termlist
+nsmsgsearchscope
+offlinemail
+madapter
+nsmsgsearchofflinemail
+termlist
+nsmsgsearchscope
+newsex
+ifdef
+doingexnewssearch
+mfolder
+knowssearchnntpextension
+madapter
+nsmsgsearchnewsex
+termlist
+madapter
+nsmsgsearchnews
+termlist
+endif
+nsassertion
+prfalse
+supporting
+newsex
+yet
+nsmsgsearchscope
+news
+madapter
+nsmsgsearchnews
+termlist
+nsmsgsearchscope
+allsearchablegroups
+ifdef
+doingexnewssearch
+madapter
+msmsgsearchnewsex
+termlist
+endif
+nsassertion
+prfalse
+supporting
+allsearchablegroups
+yet
+nsmsgsearchscope
+ldap
+nsassertion
+prfalse
+supporting
+ldap
+yet
+nsmsgsearchscope
+localnews
+madapter
+nsmsgsearchofflinenews
+termlist
+nsassertion
+prfalse
+invalid
+scope
+err
+nserrorfailure
+madapter
+err
+madapter
+validateterms
+err
+nsmsgsearchscopeterm
+getstatusbarname
+nsnull
+nsmsgresultelement
+nsmsgresultelement
+nsimsgsearchadapter
+adapter
+nsnewisupportsarray
+getteraddrefs
+mvaluelist
+madapter
+adapter
+nsmsgresultelement
+nsmsgresultelement
+nsresult
+nsmsgresultelement
+addvalue
+nsimsgsearchvalue
+value
+mvaluelist
+appendelement
+value
+nsok
+nsresult
+nsmsgresultelement
+addvalue
+nsmsgsearchvalue
+value
+nsmsgsearchvalueimpl
+valueimpl
+nsmsgsearchvalueimpl
+value
+value
+addvalue
+valueimpl
+nsresult
+nsmsgresultelement
+assignvalues
+nsimsgsearchvalue
+src
+nsmsgsearchvalue
+dst
+nsensureargpointer
+src
+nsensureargpointer
+dst
+nsresult
+err
+nsok
+src
+getattrib
+dst
+attribute
+dst
+attribute
+nsmsgsearchattrib
+priority
+err
+src
+getpriority
+dst
+priority
+nsmsgsearchattrib
+date
+err
+src
+getdate
+dst
+date
+nsmsgsearchattrib
+hasattachmentstatus
+nsmsgsearchattrib
+msgstatus
+err
+src
+getstatus
+dst
+msgstatus
+nsmsgsearchattrib
+messagekey
+err
+src
+getmsgkey
+dst
+key
+nsmsgsearchattrib
+ageindays
+err
+src
+getage
+dst
+age
+nsmsgsearchattrib
+label
+err
+src
+getlabel
+dst
+label
+nsmsgsearchattrib
+junkstatus
+err
+src
+getjunkstatus
+dst
+junkstatus
+dst
+attribute
+nsmsgsearchattrib
+knummsgsearchattributes
+nsassertion
+isstringattribute
+dst
+attribute
+assigning
+non
+result
+nsxpidlstring
+unicodestring
+err
+src
+getstr
+gettercopies
+unicodestring
+dst
+tonewutfstring
+unicodestring
+err
+nserrorinvalidarg
+err
+nsresult
+nsmsgresultelement
+getvalue
+nsmsgsearchattribvalue
+attrib
+nsmsgsearchvalue
+outvalue
+nsresult
+err
+nsok
+nscomptr
+nsimsgsearchvalue
+value
+outvalue
+pruint
+count
+mvaluelist
+count
+count
+pruint
+count
+err
+nsok
+mvaluelist
+queryelementat
+nsgetiid
+nsimsgsearchvalue
+getteraddrefs
+value
+nsmsgsearchattribvalue
+valueattribute
+value
+getattrib
+valueattribute
+attrib
+valueattribute
+outvalue
+nsmsgsearchvalue
+outvalue
+err
+assignvalues
+value
+outvalue
+err
+nsok
+err
+nserroroutofmemory
+ifdef
+havesearchport
+searcherrorscopeagreement
+err
+attrib
+nsmsgsearchattrib
+folderinfo
+nsmsgfolderinfo
+targetfolder
+madapter
+findtargetfolder
+targetfolder
+outvalue
+nsmsgsearchvalue
+outvalue
+outvalue
+folder
+targetfolder
+outvalue
+attribute
+nsmsgsearchattrib
+folderinfo
+err
+nsok
+endif
+err
+nsresult
+nsmsgresultelement
+getvalueref
+nsmsgsearchattribvalue
+attrib
+nsimsgsearchvalue
+aresult
+nscomptr
+nsimsgsearchvalue
+value
+pruint
+count
+mvaluelist
+count
+count
+nsresult
+rv
+pruint
+count
+rv
+mvaluelist
+queryelementat
+nsgetiid
+nsimsgsearchvalue
+getteraddrefs
+value
+nsassertion
+nssucceeded
+rv
+bad
+element
+of
+array
+nsfailed
+rv
+nsmsgsearchattribvalue
+valueattribute
+value
+getattrib
+valueattribute
+attrib
+valueattribute
+aresult
+value
+nsaddref
+aresult
+nserrorfailure
+nsresult
+nsmsgresultelement
+getprettyname
+nsmsgsearchvalue
+value
+nsresult
+err
+getvalue
+nsmsgsearchattrib
+location
+value
+ifdef
+havesearchport
+nsok
+err
+nsmsgfolderinfo
+folder
+madapter
+mscope
+mfolder
+nsmsgnewshost
+host
+folder
+foldercontaineronly
+folder
+gettype
+host
+nsmsgnewsfolderinfocontainer
+folder
+gethost
+folder
+isnews
+host
+folder
+getnewsfolderinfo
+gethost
+host
+host
+queryextension
+listpnames
+folder
+host
+findgroup
+value
+folder
+tmp
+nscrt
+strdup
+folder
+getprettiestname
+tmp
+xpfree
+value
+value
+utfsstringz
+tmp
+endif
+err
+nsmsgresultelement
+comparebyfolderinfoptrs
+ifdef
+havesearchport
+nsmsgresultelement
+re
+nsmsgresultelement
+nsmsgresultelement
+re
+nsmsgresultelement
+nsmsgsearchvalue
+re
+getvalueref
+attribfolderinfo
+nsmsgsearchvalue
+re
+getvalueref
+attribfolderinfo
+folder
+folder
+endif
+nsmsgresultelement
+compare
+ret
+ifdef
+havesearchport
+nsmsgresultelement
+re
+nsmsgresultelement
+nsmsgresultelement
+re
+nsmsgresultelement
+nsassertion
+re
+isvalid
+invalid
+result
+element
+in
+resultelement
+compare
+nsassertion
+re
+isvalid
+invalid
+result
+element
+in
+resultelement
+compare
+nsmsgsearchattribute
+attrib
+re
+madapter
+mscope
+mframe
+msortattribute
+nsmsgsearchvalue
+re
+getvalueref
+attrib
+nsmsgsearchvalue
+re
+getvalueref
+attrib
+ret
+attrib
+nsmsgsearchattrib
+date
+timet
+date
+date
+date
+date
+ret
+date
+ret
+nsmsgsearchattrib
+priority
+ret
+priority
+priority
+nsmsgsearchattrib
+msgstatus
+uint
+msgstatus
+msgflagreplied
+msgstatus
+msgflagreplied
+ret
+msgstatus
+msgflagforwarded
+msgstatus
+msgflagforwarded
+ret
+msgstatus
+msgflagread
+msgstatus
+msgflagread
+ret
+ret
+attrib
+nsmsgsearchattrib
+subject
+nsmsgstripre
+nsmsgstripre
+ret
+plstrcasecomp
+ret
+strcasecomp
+re
+madapter
+mscope
+mframe
+mdescending
+ret
+ret
+ret
+ret
+endif
+ret
+ifdef
+havesearchport
+mwcontexttype
+nsmsgresultelement
+getcontexttype
+mwcontexttype
+type
+mwcontexttype
+madapter
+mscope
+mattribute
+nsmsgsearchscopemailfolder
+type
+mwcontextmailmsg
+nsmsgsearchscopeofflinenewsgroup
+nsmsgsearchscopenewsgroup
+nsmsgsearchscopeallsearchablegroups
+type
+mwcontextnewsmsg
+nsmsgsearchscopeldapdirectory
+type
+mwcontextbrowser
+nsassertion
+prfalse
+invalid
+scope
+type
+endif
+nsresult
+nsmsgresultelement
+open
+window
+ifdef
+havesearchport
+window
+madapter
+mscope
+mattribute
+nsmsgsearchscopeldapdirectory
+msgpane
+msgmessagepane
+window
+prassert
+msgmessagepane
+msgpane
+getpanetype
+madapter
+openresultelement
+msgpane
+context
+mwcontext
+window
+prassert
+mwcontextbrowser
+context
+type
+msgsearchldap
+thisadapter
+msgsearchldap
+madapter
+thisadapter
+openresultelement
+context
+endif
+nserrornullpointer
\ No newline at end of file
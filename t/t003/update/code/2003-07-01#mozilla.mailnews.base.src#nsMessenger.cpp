@@ -0,0 +1,3446 @@
+prsystem
+nsmessenger
+nsicomponentmanager
+nsiservicemanager
+nsfilestream
+nsistringstream
+nsescape
+nsxpidlstring
+nsreadableutils
+nsifilespec
+nsilocalfile
+nsisupportsobsolete
+defined
+xpmac
+defined
+xpmacosx
+nsiapplefiledecoder
+defined
+xpmacosx
+nsilocalfilemac
+morefilesx
+endif
+endif
+nsmimetypes
+nsiurl
+nsiprompt
+nsistreamlistener
+nsistreamconverterservice
+nsnetutil
+nsirdfcompositedatasource
+nsirdfresource
+nsirdfservice
+nsrdfcid
+nslayoutcid
+nsimarkupdocumentviewer
+nsicontentviewer
+nsiwebshell
+nsiwebbrowserprint
+nsidomwindowinternal
+nsiscriptglobalobject
+nsidocshell
+nsidocshellloadinfo
+nsidocshelltreeitem
+nsidocshelltreenode
+nsiwebnavigation
+nsimsgmailnewsurl
+nsmsgutils
+nsmsgbasecid
+nsimsgaccountmanager
+nsimsgmailsession
+nsimsgfolder
+nsmsgfolderflags
+nsimsgincomingserver
+nsimsgmessageservice
+nsimsgstatusfeedback
+nsmsgrdfutils
+nsmsgcompcid
+nsmsgin
+nsimsgcopyservice
+nsimsgcopyservicelistener
+nsimsgsendlater
+nsimsgsendlaterlistener
+nsimsgdraft
+nsiurllistener
+nsitransaction
+nsmsgtxn
+nsmsgmimecid
+nsimimeconverter
+nsmsgprintengine
+nsifilepicker
+nsistringbundle
+nsiprefservice
+nsiprefbranch
+nsiprefbranchinternal
+nscexternalhandlerservice
+nsimimeservice
+nsilinkhandler
+nsdefinecid
+krdfservicecid
+nsrdfservicecid
+nsdefinecid
+kmsgsendlatercid
+nsmsgsendlatercid
+nsdefinecid
+kmsgprintenginecid
+nsmsgprintenginecid
+define
+fourk
+define
+messengersavedirprefname
+messenger
+save
+dir
+define
+mailnewsallowpluginsprefname
+mailnews
+messagedisplay
+allow
+plugins
+nsiparser
+nsparserciid
+nsicharsetconvertermanager
+nsicontentsink
+nsihtmltotextsink
+nsdefinecid
+kcparsercid
+nsparsercid
+nsresult
+convertbuftoplaintext
+nsstring
+aconbuf
+nsresult
+rv
+nsautostring
+convertedtext
+nscomptr
+nsiparser
+parser
+aconbuf
+isempty
+nsok
+rv
+nscomponentmanager
+createinstance
+kcparsercid
+nsnull
+nsgetiid
+nsiparser
+getteraddrefs
+parser
+nssucceeded
+rv
+parser
+nscomptr
+nsicontentsink
+sink
+sink
+docreateinstance
+nsplaintextsinkcontractid
+nsensuretrue
+sink
+nserrorfailure
+nscomptr
+nsihtmltotextsink
+textsink
+doqueryinterface
+sink
+nsensuretrue
+textsink
+nserrorfailure
+textsink
+initialize
+convertedtext
+parser
+setcontentsink
+sink
+parser
+parse
+aconbuf
+nsliteralcstring
+text
+html
+prfalse
+prtrue
+nssucceeded
+rv
+aconbuf
+convertedtext
+rv
+nsresult
+convertandsanitizefilename
+displayname
+prunichar
+unicoderesult
+result
+nscautostring
+unescapedname
+displayname
+nsunescapeurl
+unescapedname
+nsconvertutftoucs
+ucsstr
+unescapedname
+nsresult
+rv
+nsok
+defined
+xpmac
+nscomptr
+nsilocalfile
+alocalfile
+docreateinstance
+nslocalfilecontractid
+rv
+nssucceeded
+alocalfile
+setleafname
+ucsstr
+alocalfile
+getleafname
+ucsstr
+endif
+ucsstr
+replacechar
+filepathseparator
+fileillegalcharacters
+result
+rv
+convertfromunicode
+nsmsginfilesystemcharset
+ucsstr
+result
+unicoderesult
+unicoderesult
+tonewunicode
+ucsstr
+rv
+nssaveallattachmentsstate
+nssavemsglistener
+nsiurllistener
+nsimsgcopyservicelistener
+nsistreamlistener
+nssavemsglistener
+nsifilespec
+filespec
+nsmessenger
+amessenger
+nssavemsglistener
+nsdeclisupports
+nsdeclnsiurllistener
+nsdeclnsimsgcopyservicelistener
+nsdeclnsistreamlistener
+nsdeclnsirequestobserver
+nscomptr
+nsifilespec
+mfilespec
+nscomptr
+nsioutputstream
+moutputstream
+mdatabuffer
+nscomptr
+nsichannel
+mchannel
+nsxpidlcstring
+mtemplateuri
+nsmessenger
+mmessenger
+nssaveallattachmentsstate
+msaveallattachmentsstate
+prbool
+mdocharsetconversion
+nsstring
+mcharset
+nsstring
+moutputformat
+nsstring
+mmsgbuffer
+nscstring
+mcontenttype
+nssaveallattachmentsstate
+nssaveallattachmentsstate
+pruint
+count
+contenttypearray
+urlarray
+displaynamearray
+messageuriarray
+directoryname
+nssaveallattachmentsstate
+pruint
+mcount
+pruint
+mcurindex
+mdirectoryname
+mcontenttypearray
+murlarray
+mdisplaynamearray
+mmessageuriarray
+nsmessenger
+nsmessenger
+mscriptobject
+nsnull
+mwindow
+nsnull
+mmsgwindow
+nsnull
+mstringbundle
+nsnull
+msendingunsentmsgs
+prfalse
+nsmessenger
+nsmessenger
+nsifrelease
+mwindow
+msearchcontext
+nsnull
+nsimplisupports
+nsmessenger
+nsimessenger
+nsiobserver
+nsisupportsweakreference
+nsimplgetset
+nsmessenger
+sendingunsentmsgs
+prbool
+msendingunsentmsgs
+nsimethodimp
+nsmessenger
+setwindow
+nsidomwindowinternal
+awin
+nsimsgwindow
+amsgwindow
+nscomptr
+nsiprefbranchinternal
+pbi
+nscomptr
+nsiprefservice
+prefs
+dogetservice
+nsprefservicecontractid
+prefs
+nscomptr
+nsiprefbranch
+prefbranch
+prefs
+getbranch
+nsnull
+getteraddrefs
+prefbranch
+prefbranch
+pbi
+doqueryinterface
+prefbranch
+awin
+mmsgwindow
+nscomptr
+nsimsgstatusfeedback
+astatusfeedback
+mmsgwindow
+getstatusfeedback
+getteraddrefs
+astatusfeedback
+astatusfeedback
+astatusfeedback
+setdocshell
+nsnull
+nsnull
+pbi
+pbi
+removeobserver
+mailnewsallowpluginsprefname
+nsok
+mmsgwindow
+amsgwindow
+nsifrelease
+mwindow
+mwindow
+awin
+nsaddref
+awin
+nscomptr
+nsiscriptglobalobject
+globalobj
+doqueryinterface
+awin
+nsensuretrue
+globalobj
+nserrorfailure
+nscomptr
+nsidocshell
+docshell
+globalobj
+getdocshell
+getteraddrefs
+docshell
+nscomptr
+nsidocshelltreeitem
+docshellasitem
+doqueryinterface
+docshell
+nsensuretrue
+docshellasitem
+nserrorfailure
+nscomptr
+nsidocshelltreeitem
+rootdocshellasitem
+docshellasitem
+getsametyperoottreeitem
+getteraddrefs
+rootdocshellasitem
+nscomptr
+nsidocshelltreenode
+rootdocshellasnode
+doqueryinterface
+rootdocshellasitem
+rootdocshellasnode
+nscomptr
+nsidocshelltreeitem
+childasitem
+nsresult
+rv
+rootdocshellasnode
+findchildwithname
+nsliteralstring
+messagepane
+get
+prtrue
+prfalse
+nsnull
+getteraddrefs
+childasitem
+mdocshell
+doqueryinterface
+childasitem
+nssucceeded
+rv
+mdocshell
+amsgwindow
+nscomptr
+nsimsgstatusfeedback
+astatusfeedback
+amsgwindow
+getstatusfeedback
+getteraddrefs
+astatusfeedback
+astatusfeedback
+astatusfeedback
+setdocshell
+mdocshell
+mwindow
+amsgwindow
+gettransactionmanager
+getteraddrefs
+mtxnmgr
+pbi
+pbi
+addobserver
+mailnewsallowpluginsprefname
+prtrue
+setdisplayproperties
+mdocshell
+mdocshell
+docshell
+nsok
+nsimethodimp
+nsmessenger
+setdisplaycharset
+acharset
+mcurrentdisplaycharset
+equals
+acharset
+nsok
+mdocshell
+nscomptr
+nsicontentviewer
+cv
+mdocshell
+getcontentviewer
+getteraddrefs
+cv
+cv
+nscomptr
+nsimarkupdocumentviewer
+mudv
+doqueryinterface
+cv
+mudv
+mudv
+setforcecharacterset
+nsdependentcstring
+acharset
+mcurrentdisplaycharset
+acharset
+nsok
+nsresult
+nsmessenger
+setdisplayproperties
+nsresult
+rv
+mdocshell
+nserrorfailure
+prbool
+allowplugins
+prfalse
+nscomptr
+nsiprefservice
+prefs
+dogetservice
+nsprefservicecontractid
+rv
+nssucceeded
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+rv
+prefs
+getbranch
+nsnull
+getteraddrefs
+prefbranch
+nssucceeded
+rv
+prefbranch
+getboolpref
+mailnewsallowpluginsprefname
+allowplugins
+mdocshell
+setallowplugins
+allowplugins
+nsimethodimp
+nsmessenger
+observe
+nsisupports
+asubject
+atopic
+prunichar
+adata
+nscrt
+strcmp
+atopic
+nsprefbranchprefchangetopicid
+nsdependentstring
+prefname
+adata
+prefname
+equals
+nsliteralstring
+mailnewsallowpluginsprefname
+setdisplayproperties
+nsok
+nsresult
+nsmessenger
+promptiffileexists
+nsfilespec
+filespec
+nsresult
+rv
+nserrorfailure
+filespec
+exists
+nscomptr
+nsiprompt
+dialog
+dogetinterface
+mdocshell
+dialog
+rv
+nsstring
+path
+prbool
+dialogresult
+prfalse
+nsxpidlstring
+errormessage
+nsmsggetnativepathstring
+filespec
+getnativepathcstring
+path
+prunichar
+pathformatstrings
+path
+get
+mstringbundle
+rv
+initstringbundle
+nsfailed
+rv
+rv
+rv
+mstringbundle
+formatstringfromname
+nsliteralstring
+fileexists
+get
+pathformatstrings
+gettercopies
+errormessage
+nsfailed
+rv
+rv
+rv
+dialog
+confirm
+nsnull
+errormessage
+dialogresult
+nsfailed
+rv
+rv
+dialogresult
+nsok
+print
+dialogreturn
+nscomptr
+nsifilepicker
+filepicker
+docreateinstance
+filepicker
+rv
+nsfailed
+rv
+rv
+filepicker
+init
+nsnull
+getstring
+nsliteralstring
+saveattachment
+get
+nsifilepicker
+modesave
+filepicker
+setdefaultstring
+path
+get
+filepicker
+appendfilters
+nsifilepicker
+filterall
+nscomptr
+nsilocalfile
+lastsavedir
+rv
+getlastsavedirectory
+getteraddrefs
+lastsavedir
+nssucceeded
+rv
+lastsavedir
+filepicker
+setdisplaydirectory
+lastsavedir
+rv
+filepicker
+show
+dialogreturn
+nsfailed
+rv
+dialogreturn
+nsifilepicker
+returncancel
+nserrorfailure
+nscomptr
+nsilocalfile
+localfile
+nscautostring
+filepath
+rv
+filepicker
+getfile
+getteraddrefs
+localfile
+nsfailed
+rv
+rv
+rv
+setlastsavedirectory
+localfile
+nsensuresuccess
+rv
+rv
+rv
+localfile
+getnativepath
+filepath
+nsfailed
+rv
+rv
+filespec
+filepath
+get
+nsok
+nsok
+rv
+nsimethodimp
+nsmessenger
+openurl
+aurl
+nsensureargpointer
+aurl
+setdisplaycharset
+utf
+unescapedurl
+plstrdup
+aurl
+unescapedurl
+nserroroutofmemory
+nsunescape
+unescapedurl
+nscomptr
+nsimsgmessageservice
+messageservice
+nsresult
+rv
+getmessageservicefromuri
+aurl
+getteraddrefs
+messageservice
+nssucceeded
+rv
+messageservice
+nscomptr
+nsiwebshell
+webshell
+doqueryinterface
+mdocshell
+messageservice
+displaymessage
+aurl
+webshell
+mmsgwindow
+nsnull
+nsnull
+nsnull
+mlastdisplayuri
+aurl
+nscomptr
+nsiwebnavigation
+webnav
+doqueryinterface
+mdocshell
+webnav
+rv
+webnav
+loaduri
+nsconvertasciitoucs
+unescapedurl
+get
+nsiwebnavigation
+loadflagsnone
+nsnull
+nsnull
+nsnull
+plstrfree
+unescapedurl
+rv
+nsimethodimp
+nsmessenger
+loadurl
+nsidomwindowinternal
+awin
+aurl
+nsensureargpointer
+aurl
+setdisplaycharset
+utf
+nsautostring
+uristring
+nsconvertasciitoucs
+aurl
+get
+uristring
+trim
+uristring
+stripchars
+nsensuretrue
+uristring
+isempty
+nserrorfailure
+nscomptr
+nsiuri
+uri
+nsresult
+rv
+nsnewuri
+getteraddrefs
+uri
+uristring
+nsensuresuccess
+rv
+rv
+awin
+nscomptr
+nsiscriptglobalobject
+globalobj
+doqueryinterface
+awin
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsidocshell
+docshell
+rv
+globalobj
+getdocshell
+getteraddrefs
+docshell
+nsensuresuccess
+rv
+rv
+nscomptr
+nsilinkhandler
+lh
+doqueryinterface
+docshell
+rv
+nsensuresuccess
+rv
+rv
+rv
+lh
+onlinkclick
+nsnull
+elinkverbreplace
+uri
+nsnull
+nsnull
+nsnull
+nsensuretrue
+mdocshell
+nserrorfailure
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+uri
+msgurl
+msgurl
+setmsgwindow
+mmsgwindow
+nscomptr
+nsidocshellloadinfo
+loadinfo
+rv
+mdocshell
+createloadinfo
+getteraddrefs
+loadinfo
+nsensuresuccess
+rv
+rv
+loadinfo
+setloadtype
+nsidocshellloadinfo
+loadnormal
+mdocshell
+loaduri
+uri
+loadinfo
+prtrue
+nsresult
+nsmessenger
+saveattachment
+nsifilespec
+filespec
+unescapedurl
+messageuri
+contenttype
+closure
+nsimsgmessageservice
+messageservice
+nsnull
+nssaveallattachmentsstate
+savestate
+nssaveallattachmentsstate
+closure
+nscomptr
+nsimsgmessagefetchpartservice
+fetchservice
+nscautostring
+urlstring
+nscomptr
+nsiuri
+url
+nscautostring
+fullmessageuri
+messageuri
+nssavemsglistener
+savelistener
+nssavemsglistener
+filespec
+savelistener
+nserroroutofmemory
+nsaddref
+savelistener
+savelistener
+mcontenttype
+contenttype
+savestate
+savelistener
+msaveallattachmentsstate
+savestate
+urlstring
+unescapedurl
+urlstring
+replacesubstring
+section
+section
+nsresult
+rv
+createstartupurl
+urlstring
+get
+getteraddrefs
+url
+nssucceeded
+rv
+rv
+getmessageservicefromuri
+messageuri
+messageservice
+nssucceeded
+rv
+fetchservice
+doqueryinterface
+messageservice
+fetchservice
+print
+sectionpos
+urlstring
+find
+section
+nscstring
+mimepart
+urlstring
+right
+mimepart
+urlstring
+length
+sectionpos
+fullmessageuri
+append
+mimepart
+messageuri
+fullmessageuri
+get
+nscomptr
+nsistreamlistener
+convertedlistener
+savelistener
+queryinterface
+nsgetiid
+nsistreamlistener
+getteraddrefs
+convertedlistener
+defined
+xpmac
+defined
+xpmacosx
+contenttype
+nscrt
+strcasecmp
+applicationbinhex
+contenttype
+nscomptr
+nsistreamlistener
+listener
+doqueryinterface
+convertedlistener
+nscomptr
+nsistreamconverterservice
+streamconverterservice
+dogetservice
+streamconverters
+rv
+nscomptr
+nsisupports
+channelsupport
+doqueryinterface
+savelistener
+mchannel
+rv
+streamconverterservice
+asyncconvertdata
+nsconvertasciitoucs
+applicationbinhex
+get
+nsliteralstring
+get
+listener
+channelsupport
+getteraddrefs
+convertedlistener
+endif
+fetchservice
+rv
+fetchservice
+fetchmimepart
+url
+messageuri
+convertedlistener
+mmsgwindow
+nsnull
+nsnull
+rv
+messageservice
+displaymessage
+messageuri
+convertedlistener
+mmsgwindow
+nsnull
+nsnull
+nsnull
+nsfailed
+rv
+nsifrelease
+savelistener
+alert
+saveattachmentfailed
+rv
+nsimethodimp
+nsmessenger
+openattachment
+acontenttype
+aurl
+adisplayname
+amessageuri
+nsresult
+rv
+nsok
+nscomptr
+nsimsgmessageservice
+messageservice
+rv
+getmessageservicefromuri
+amessageuri
+getteraddrefs
+messageservice
+messageservice
+rv
+messageservice
+openattachment
+acontenttype
+adisplayname
+aurl
+amessageuri
+mdocshell
+mmsgwindow
+nsnull
+rv
+nsimethodimp
+nsmessenger
+saveattachment
+contenttype
+url
+displayname
+messageuri
+nsensureargpointer
+url
+ifdef
+debugmessenger
+printf
+nsmessenger
+saveattachment
+url
+endif
+nsresult
+rv
+nserroroutofmemory
+unescapedurl
+nsnull
+nscomptr
+nsifilepicker
+filepicker
+docreateinstance
+filepicker
+rv
+nsensuresuccess
+rv
+rv
+print
+dialogresult
+nscomptr
+nsilocalfile
+localfile
+nscomptr
+nsilocalfile
+lastsavedir
+nscomptr
+nsifilespec
+filespec
+nsxpidlcstring
+filepath
+nsxpidlstring
+defaultdisplaystring
+unescapedurl
+plstrdup
+url
+unescapedurl
+nserroroutofmemory
+nsunescape
+unescapedurl
+rv
+convertandsanitizefilename
+displayname
+gettercopies
+defaultdisplaystring
+nsnull
+nsfailed
+rv
+done
+filepicker
+init
+nsnull
+getstring
+nsliteralstring
+saveattachment
+get
+nsifilepicker
+modesave
+filepicker
+setdefaultstring
+defaultdisplaystring
+get
+filepicker
+appendfilters
+nsifilepicker
+filterall
+rv
+getlastsavedirectory
+getteraddrefs
+lastsavedir
+nssucceeded
+rv
+lastsavedir
+filepicker
+setdisplaydirectory
+lastsavedir
+rv
+filepicker
+show
+dialogresult
+nsfailed
+rv
+dialogresult
+nsifilepicker
+returncancel
+done
+rv
+filepicker
+getfile
+getteraddrefs
+localfile
+nsfailed
+rv
+done
+setlastsavedirectory
+localfile
+rv
+nsnewfilespecfromifile
+localfile
+getteraddrefs
+filespec
+nsfailed
+rv
+done
+rv
+saveattachment
+filespec
+unescapedurl
+messageuri
+contenttype
+nsnull
+done
+prfreeif
+unescapedurl
+rv
+nsimethodimp
+nsmessenger
+saveallattachments
+pruint
+count
+contenttypearray
+urlarray
+displaynamearray
+messageuriarray
+nsresult
+rv
+nserroroutofmemory
+nscomptr
+nsifilepicker
+filepicker
+docreateinstance
+filepicker
+rv
+nscomptr
+nsilocalfile
+localfile
+nscomptr
+nsilocalfile
+lastsavedir
+nscomptr
+nsifilespec
+filespec
+nsxpidlcstring
+dirname
+unescapedurl
+nsnull
+unescapedname
+nsnull
+nssaveallattachmentsstate
+savestate
+nsnull
+print
+dialogresult
+nsfailed
+rv
+done
+filepicker
+init
+nsnull
+getstring
+nsliteralstring
+saveallattachments
+get
+nsifilepicker
+modegetfolder
+rv
+getlastsavedirectory
+getteraddrefs
+lastsavedir
+nssucceeded
+rv
+lastsavedir
+filepicker
+setdisplaydirectory
+lastsavedir
+rv
+filepicker
+show
+dialogresult
+nsfailed
+rv
+dialogresult
+nsifilepicker
+returncancel
+done
+rv
+filepicker
+getfile
+getteraddrefs
+localfile
+nsfailed
+rv
+done
+rv
+setlastsavedirectory
+localfile
+nsfailed
+rv
+done
+rv
+localfile
+getnativepath
+dirname
+nsfailed
+rv
+done
+rv
+nsnewfilespec
+getteraddrefs
+filespec
+nsfailed
+rv
+done
+savestate
+nssaveallattachmentsstate
+count
+contenttypearray
+urlarray
+displaynamearray
+messageuriarray
+dirname
+nsfilespec
+afilespec
+dirname
+unescapedurl
+plstrdup
+urlarray
+nsunescape
+unescapedurl
+rv
+convertandsanitizefilename
+displaynamearray
+nsnull
+unescapedname
+nsfailed
+rv
+done
+afilespec
+unescapedname
+rv
+promptiffileexists
+afilespec
+nsfailed
+rv
+rv
+filespec
+setfromfilespec
+afilespec
+rv
+saveattachment
+filespec
+unescapedurl
+messageuriarray
+contenttypearray
+savestate
+nsfailed
+rv
+done
+done
+prfreeif
+unescapedurl
+prfreeif
+unescapedname
+rv
+messengersaveasfiletype
+emlfiletype
+htmlfiletype
+textfiletype
+anyfiletype
+define
+htmlfileextension
+htm
+define
+htmlfileextension
+html
+define
+textfileextension
+txt
+define
+emlfileextension
+eml
+nsimethodimp
+nsmessenger
+saveas
+auri
+prbool
+aasfile
+nsimsgidentity
+aidentity
+nsimsgwindow
+amsgwindow
+nsensureargpointer
+auri
+nscomptr
+nsimsgmessageservice
+messageservice
+nscomptr
+nsiurllistener
+urllistener
+nssavemsglistener
+savelistener
+nsnull
+nscomptr
+nsiuri
+url
+nscomptr
+nsistreamlistener
+convertedlistener
+print
+saveasfiletype
+emlfiletype
+nsresult
+rv
+getmessageservicefromuri
+auri
+getteraddrefs
+messageservice
+nsfailed
+rv
+done
+aasfile
+nscomptr
+nsifilepicker
+filepicker
+docreateinstance
+filepicker
+rv
+nsfailed
+rv
+done
+filepicker
+init
+nsnull
+getstring
+nsliteralstring
+savemailas
+get
+nsifilepicker
+modesave
+filepicker
+setdefaultstring
+getstring
+nsliteralstring
+defaultsavemessageasfilename
+get
+filepicker
+appendfilter
+getstring
+nsliteralstring
+emlfiles
+get
+nsliteralstring
+eml
+get
+filepicker
+appendfilters
+nsifilepicker
+filterhtml
+filepicker
+appendfilters
+nsifilepicker
+filtertext
+filepicker
+appendfilters
+nsifilepicker
+filterall
+filepicker
+setfilterindex
+anyfiletype
+print
+dialogresult
+nscomptr
+nsilocalfile
+lastsavedir
+rv
+getlastsavedirectory
+getteraddrefs
+lastsavedir
+nssucceeded
+rv
+lastsavedir
+filepicker
+setdisplaydirectory
+lastsavedir
+rv
+filepicker
+show
+dialogresult
+nsfailed
+rv
+dialogresult
+nsifilepicker
+returncancel
+done
+nscomptr
+nsilocalfile
+localfile
+rv
+filepicker
+getfile
+getteraddrefs
+localfile
+nsfailed
+rv
+done
+dialogresult
+nsifilepicker
+returnreplace
+prbool
+isfile
+rv
+localfile
+isfile
+isfile
+nssucceeded
+rv
+isfile
+rv
+localfile
+remove
+prfalse
+nsensuresuccess
+rv
+rv
+rv
+setlastsavedirectory
+localfile
+nsfailed
+rv
+done
+rv
+filepicker
+getfilterindex
+saveasfiletype
+nsfailed
+rv
+done
+nsautostring
+filename
+rv
+localfile
+getleafname
+filename
+nsensuresuccess
+rv
+rv
+saveasfiletype
+htmlfiletype
+filename
+rfind
+htmlfileextension
+prtrue
+htmlfileextension
+knotfound
+filename
+rfind
+htmlfileextension
+prtrue
+htmlfileextension
+knotfound
+filename
+append
+nsliteralstring
+htmlfileextension
+localfile
+setleafname
+filename
+textfiletype
+filename
+rfind
+textfileextension
+prtrue
+textfileextension
+knotfound
+filename
+append
+nsliteralstring
+textfileextension
+localfile
+setleafname
+filename
+emlfiletype
+filename
+rfind
+emlfileextension
+prtrue
+emlfileextension
+knotfound
+filename
+append
+nsliteralstring
+emlfileextension
+localfile
+setleafname
+filename
+anyfiletype
+prbool
+noextensionfound
+prfalse
+filename
+rfind
+knotfound
+filename
+rfind
+htmlfileextension
+prtrue
+htmlfileextension
+knotfound
+filename
+rfind
+htmlfileextension
+prtrue
+htmlfileextension
+knotfound
+saveasfiletype
+htmlfiletype
+filename
+rfind
+textfileextension
+prtrue
+textfileextension
+knotfound
+saveasfiletype
+textfiletype
+filename
+rfind
+emlfileextension
+prtrue
+emlfileextension
+knotfound
+saveasfiletype
+emlfiletype
+noextensionfound
+prtrue
+noextensionfound
+prtrue
+noextensionfound
+saveasfiletype
+emlfiletype
+filename
+append
+nsliteralstring
+emlfileextension
+localfile
+setleafname
+filename
+nscomptr
+nsifilespec
+filespec
+rv
+nsnewfilespecfromifile
+localfile
+getteraddrefs
+filespec
+nsfailed
+rv
+done
+savelistener
+nssavemsglistener
+filespec
+savelistener
+rv
+nserroroutofmemory
+done
+nsaddref
+savelistener
+rv
+savelistener
+queryinterface
+nsgetiid
+nsiurllistener
+getteraddrefs
+urllistener
+nsfailed
+rv
+done
+saveasfiletype
+emlfiletype
+rv
+messageservice
+savemessagetodisk
+auri
+filespec
+prfalse
+urllistener
+nsnull
+prfalse
+mmsgwindow
+nscautostring
+urlstring
+auri
+saveasfiletype
+textfiletype
+savelistener
+moutputformat
+nsliteralstring
+textplain
+savelistener
+mdocharsetconversion
+prtrue
+urlstring
+nsliteralcstring
+header
+print
+savelistener
+moutputformat
+nsliteralstring
+texthtml
+savelistener
+mdocharsetconversion
+prfalse
+urlstring
+nsliteralcstring
+header
+saveas
+rv
+createstartupurl
+urlstring
+get
+getteraddrefs
+url
+nsassertion
+nssucceeded
+rv
+createstartupurl
+failed
+nsfailed
+rv
+done
+savelistener
+mchannel
+nsnull
+rv
+nsnewinputstreamchannel
+getteraddrefs
+savelistener
+mchannel
+url
+nsnull
+nsliteralcstring
+nsliteralcstring
+nsassertion
+nssucceeded
+rv
+nsnewinputstreamchannel
+failed
+nsfailed
+rv
+done
+nscomptr
+nsistreamconverterservice
+streamconverterservice
+dogetservice
+streamconverters
+nscomptr
+nsisupports
+channelsupport
+doqueryinterface
+savelistener
+mchannel
+rv
+streamconverterservice
+asyncconvertdata
+nsliteralstring
+messagerfc
+get
+nsliteralstring
+texthtml
+get
+savelistener
+channelsupport
+getteraddrefs
+convertedlistener
+nsassertion
+nssucceeded
+rv
+asyncconvertdata
+failed
+nsfailed
+rv
+done
+rv
+messageservice
+displaymessage
+urlstring
+get
+convertedlistener
+mmsgwindow
+nsnull
+nsnull
+nsnull
+nscomptr
+nsifilespec
+filespec
+nsfilespec
+tmpfilespec
+nsmail
+tmp
+rv
+nsnewfilespecwithspec
+tmpfilespec
+getteraddrefs
+filespec
+nsfailed
+rv
+done
+savelistener
+nssavemsglistener
+filespec
+savelistener
+rv
+nserroroutofmemory
+done
+nsaddref
+savelistener
+aidentity
+rv
+aidentity
+getstationeryfolder
+gettercopies
+savelistener
+mtemplateuri
+nsfailed
+rv
+done
+prbool
+needdummyheader
+plstrcasestr
+savelistener
+mtemplateuri
+mailbox
+nsnull
+prbool
+canonicallineending
+plstrcasestr
+savelistener
+mtemplateuri
+imap
+nsnull
+rv
+savelistener
+queryinterface
+nsgetiid
+nsiurllistener
+getteraddrefs
+urllistener
+nsfailed
+rv
+done
+rv
+messageservice
+savemessagetodisk
+auri
+filespec
+needdummyheader
+urllistener
+nsnull
+canonicallineending
+mmsgwindow
+done
+nsfailed
+rv
+nsifrelease
+savelistener
+alert
+savemessagefailed
+rv
+nsresult
+nsmessenger
+alert
+stringname
+nsresult
+rv
+nsok
+nsstring
+errormessage
+getstring
+nsconvertasciitoucs
+stringname
+get
+mdocshell
+nscomptr
+nsiprompt
+dialog
+dogetinterface
+mdocshell
+dialog
+rv
+dialog
+alert
+nsnull
+errormessage
+get
+rv
+nsresult
+nsmessenger
+docommand
+nsirdfcompositedatasource
+db
+nsacstring
+command
+nsisupportsarray
+srcarray
+nsisupportsarray
+argumentarray
+nsresult
+rv
+nscomptr
+nsirdfservice
+rdfservice
+dogetservice
+krdfservicecid
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsirdfresource
+commandresource
+rv
+rdfservice
+getresource
+command
+getteraddrefs
+commandresource
+nssucceeded
+rv
+rv
+db
+docommand
+srcarray
+commandresource
+argumentarray
+rv
+nsimethodimp
+nsmessenger
+deletemessages
+nsirdfcompositedatasource
+database
+nsirdfresource
+srcfolderresource
+nsisupportsarray
+resourcearray
+prbool
+reallydelete
+nsresult
+rv
+database
+srcfolderresource
+resourcearray
+nserrornullpointer
+nscomptr
+nsisupportsarray
+folderarray
+rv
+nsnewisupportsarray
+getteraddrefs
+folderarray
+nsfailed
+rv
+nserroroutofmemory
+folderarray
+appendelement
+srcfolderresource
+reallydelete
+rv
+docommand
+database
+nsliteralcstring
+ncrdfreallydelete
+folderarray
+resourcearray
+rv
+docommand
+database
+nsliteralcstring
+ncrdfdelete
+folderarray
+resourcearray
+rv
+nsimethodimp
+nsmessenger
+deletefolders
+nsirdfcompositedatasource
+db
+nsirdfresource
+parentresource
+nsirdfresource
+deletedfolderresource
+nsresult
+rv
+db
+parentresource
+deletedfolderresource
+nserrornullpointer
+nscomptr
+nsisupportsarray
+parentarray
+deletedarray
+rv
+nsnewisupportsarray
+getteraddrefs
+parentarray
+nsfailed
+rv
+nserroroutofmemory
+rv
+nsnewisupportsarray
+getteraddrefs
+deletedarray
+nsfailed
+rv
+nserroroutofmemory
+parentarray
+appendelement
+parentresource
+deletedarray
+appendelement
+deletedfolderresource
+rv
+docommand
+db
+nsliteralcstring
+ncrdfdelete
+parentarray
+deletedarray
+nsok
+nsimethodimp
+nsmessenger
+copymessages
+nsirdfcompositedatasource
+database
+nsirdfresource
+srcresource
+nsirdfresource
+dstresource
+nsisupportsarray
+argumentarray
+prbool
+ismove
+nsresult
+rv
+nsensureargpointer
+srcresource
+nsensureargpointer
+dstresource
+nsensureargpointer
+argumentarray
+nscomptr
+nsimsgfolder
+srcfolder
+nscomptr
+nsisupportsarray
+folderarray
+srcfolder
+doqueryinterface
+srcresource
+srcfolder
+nserrornointerface
+nscomptr
+nsisupports
+srcfoldersupports
+doqueryinterface
+srcfolder
+srcfoldersupports
+argumentarray
+insertelementat
+srcfoldersupports
+rv
+nsnewisupportsarray
+getteraddrefs
+folderarray
+nsensuresuccess
+rv
+rv
+folderarray
+appendelement
+dstresource
+ismove
+rv
+docommand
+database
+nsliteralcstring
+ncrdfmove
+folderarray
+argumentarray
+rv
+docommand
+database
+nsliteralcstring
+ncrdfcopy
+folderarray
+argumentarray
+rv
+nsimethodimp
+nsmessenger
+messageservicefromuri
+uri
+nsimsgmessageservice
+msgservice
+nsresult
+rv
+nsensureargpointer
+uri
+nsensureargpointer
+msgservice
+rv
+getmessageservicefromuri
+uri
+msgservice
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsmessenger
+copyfolders
+nsirdfcompositedatasource
+database
+nsirdfresource
+dstresource
+nsisupportsarray
+argumentarray
+prbool
+ismovefolder
+nsresult
+rv
+dstresource
+argumentarray
+nserrornullpointer
+nscomptr
+nsisupportsarray
+folderarray
+rv
+nsnewisupportsarray
+getteraddrefs
+folderarray
+nsensuresuccess
+rv
+rv
+folderarray
+appendelement
+dstresource
+ismovefolder
+docommand
+database
+nsliteralcstring
+ncrdfmovefolder
+folderarray
+argumentarray
+docommand
+database
+nsliteralcstring
+ncrdfcopyfolder
+folderarray
+argumentarray
+nsimethodimp
+nsmessenger
+renamefolder
+nsirdfcompositedatasource
+db
+nsirdfresource
+folderresource
+prunichar
+name
+nsresult
+rv
+nserrornullpointer
+db
+folderresource
+name
+name
+rv
+nscomptr
+nsisupportsarray
+folderarray
+nscomptr
+nsisupportsarray
+argsarray
+rv
+nsnewisupportsarray
+getteraddrefs
+folderarray
+nsfailed
+rv
+rv
+folderarray
+appendelement
+folderresource
+rv
+nsnewisupportsarray
+getteraddrefs
+argsarray
+nsfailed
+rv
+rv
+nscomptr
+nsirdfservice
+rdfservice
+dogetservice
+krdfservicecid
+rv
+nssucceeded
+rv
+nscomptr
+nsirdfliteral
+nameliteral
+rdfservice
+getliteral
+name
+getteraddrefs
+nameliteral
+argsarray
+appendelement
+nameliteral
+rv
+docommand
+db
+nsliteralcstring
+ncrdfrename
+folderarray
+argsarray
+rv
+nsimethodimp
+nsmessenger
+compactfolder
+nsirdfcompositedatasource
+db
+nsirdfresource
+folderresource
+prbool
+forall
+nsresult
+rv
+nserrornullpointer
+db
+folderresource
+rv
+nscomptr
+nsisupportsarray
+folderarray
+rv
+nsnewisupportsarray
+getteraddrefs
+folderarray
+nsfailed
+rv
+rv
+folderarray
+appendelement
+folderresource
+forall
+rv
+docommand
+db
+nsliteralcstring
+ncrdfcompactall
+folderarray
+nsnull
+rv
+docommand
+db
+nsliteralcstring
+ncrdfcompact
+folderarray
+nsnull
+nssucceeded
+rv
+mtxnmgr
+mtxnmgr
+clear
+rv
+nsimethodimp
+nsmessenger
+emptytrash
+nsirdfcompositedatasource
+db
+nsirdfresource
+folderresource
+nsresult
+rv
+nserrornullpointer
+db
+folderresource
+rv
+nscomptr
+nsisupportsarray
+folderarray
+rv
+nsnewisupportsarray
+getteraddrefs
+folderarray
+nsfailed
+rv
+rv
+folderarray
+appendelement
+folderresource
+rv
+docommand
+db
+nsliteralcstring
+ncrdfemptytrash
+folderarray
+nsnull
+nssucceeded
+rv
+mtxnmgr
+mtxnmgr
+clear
+rv
+nsimethodimp
+nsmessenger
+getundotransactiontype
+pruint
+txntype
+nsresult
+rv
+nserrornullpointer
+txntype
+mtxnmgr
+rv
+txntype
+nsmessenger
+eunknown
+nscomptr
+nsitransaction
+txn
+rv
+mtxnmgr
+peekundostack
+getteraddrefs
+txn
+nssucceeded
+rv
+txn
+nscomptr
+nsmsgtxn
+msgtxn
+doqueryinterface
+txn
+rv
+nssucceeded
+rv
+msgtxn
+rv
+msgtxn
+gettransactiontype
+txntype
+rv
+nsimethodimp
+nsmessenger
+canundo
+prbool
+bvalue
+nsresult
+rv
+nserrornullpointer
+bvalue
+mtxnmgr
+rv
+bvalue
+prfalse
+print
+count
+rv
+mtxnmgr
+getnumberofundoitems
+count
+nssucceeded
+rv
+count
+bvalue
+prtrue
+rv
+nsimethodimp
+nsmessenger
+getredotransactiontype
+pruint
+txntype
+nsresult
+rv
+nserrornullpointer
+txntype
+mtxnmgr
+rv
+txntype
+nsmessenger
+eunknown
+nscomptr
+nsitransaction
+txn
+rv
+mtxnmgr
+peekredostack
+getteraddrefs
+txn
+nssucceeded
+rv
+txn
+nscomptr
+nsmsgtxn
+msgtxn
+doqueryinterface
+txn
+rv
+nssucceeded
+rv
+msgtxn
+rv
+msgtxn
+gettransactiontype
+txntype
+rv
+nsimethodimp
+nsmessenger
+canredo
+prbool
+bvalue
+nsresult
+rv
+nserrornullpointer
+bvalue
+mtxnmgr
+rv
+bvalue
+prfalse
+print
+count
+rv
+mtxnmgr
+getnumberofredoitems
+count
+nssucceeded
+rv
+count
+bvalue
+prtrue
+rv
+nsimethodimp
+nsmessenger
+undo
+nsimsgwindow
+msgwindow
+nsresult
+rv
+nsok
+mtxnmgr
+print
+numtxn
+rv
+mtxnmgr
+getnumberofundoitems
+numtxn
+nssucceeded
+rv
+numtxn
+nscomptr
+nsitransaction
+txn
+rv
+mtxnmgr
+peekundostack
+getteraddrefs
+txn
+nssucceeded
+rv
+txn
+nscomptr
+nsmsgtxn
+msgtxn
+doqueryinterface
+txn
+rv
+nssucceeded
+rv
+msgtxn
+msgtxn
+setmsgwindow
+msgwindow
+mtxnmgr
+undotransaction
+rv
+nsimethodimp
+nsmessenger
+redo
+nsimsgwindow
+msgwindow
+nsresult
+rv
+nsok
+mtxnmgr
+print
+numtxn
+rv
+mtxnmgr
+getnumberofredoitems
+numtxn
+nssucceeded
+rv
+numtxn
+nscomptr
+nsitransaction
+txn
+rv
+mtxnmgr
+peekredostack
+getteraddrefs
+txn
+nssucceeded
+rv
+txn
+nscomptr
+nsmsgtxn
+msgtxn
+doqueryinterface
+txn
+rv
+nssucceeded
+rv
+msgtxn
+msgtxn
+setmsgwindow
+msgwindow
+mtxnmgr
+redotransaction
+rv
+nsimethodimp
+nsmessenger
+gettransactionmanager
+nsitransactionmanager
+atxnmgr
+mtxnmgr
+atxnmgr
+nserrornullpointer
+atxnmgr
+mtxnmgr
+nsaddref
+atxnmgr
+nsok
+nsimethodimp
+nsmessenger
+setdocumentcharset
+characterset
+mlastdisplayuri
+isempty
+nscomptr
+nsimsgmessageservice
+messageservice
+nsresult
+rv
+getmessageservicefromuri
+mlastdisplayuri
+get
+getteraddrefs
+messageservice
+nssucceeded
+rv
+messageservice
+nscomptr
+nsiwebshell
+webshell
+doqueryinterface
+mdocshell
+messageservice
+displaymessage
+mlastdisplayuri
+get
+webshell
+mmsgwindow
+nsnull
+characterset
+nsnull
+nsok
+sendlaterlistener
+nsimsgsendlaterlistener
+sendlaterlistener
+nsimessenger
+sendlaterlistener
+nsdeclisupports
+nsimethod
+onstartsending
+pruint
+atotalmessagecount
+nsimethod
+onprogress
+pruint
+acurrentmessage
+pruint
+atotalmessage
+nsimethod
+onstatus
+prunichar
+amsg
+nsimethod
+onstopsending
+nsresult
+astatus
+prunichar
+amsg
+pruint
+atotaltried
+pruint
+asuccessful
+nsweakptr
+mmessenger
+nsimplisupports
+sendlaterlistener
+nsimsgsendlaterlistener
+sendlaterlistener
+sendlaterlistener
+nsimessenger
+amessenger
+mmessenger
+getteraddrefs
+nsgetweakreference
+amessenger
+sendlaterlistener
+sendlaterlistener
+nscomptr
+nsimessenger
+messenger
+doqueryreferent
+mmessenger
+messenger
+messenger
+setsendingunsentmsgs
+prfalse
+mmessenger
+nsnull
+nsresult
+sendlaterlistener
+onstartsending
+pruint
+atotalmessagecount
+nscomptr
+nsimessenger
+messenger
+doqueryreferent
+mmessenger
+messenger
+messenger
+setsendingunsentmsgs
+prtrue
+nsok
+nsresult
+sendlaterlistener
+onprogress
+pruint
+acurrentmessage
+pruint
+atotalmessage
+nsok
+nsresult
+sendlaterlistener
+onstatus
+prunichar
+amsg
+nsok
+nsresult
+sendlaterlistener
+onstopsending
+nsresult
+astatus
+prunichar
+amsg
+pruint
+atotaltried
+pruint
+asuccessful
+ifdef
+nsdebug
+nssucceeded
+astatus
+printf
+sendlaterlistener
+onstopsending
+tried
+to
+send
+messages
+successful
+atotaltried
+asuccessful
+endif
+nscomptr
+nsimessenger
+messenger
+doqueryreferent
+mmessenger
+messenger
+messenger
+setsendingunsentmsgs
+prfalse
+nsok
+nsimethodimp
+nsmessenger
+sendunsentmessages
+nsimsgidentity
+aidentity
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+nscomptr
+nsimsgsendlater
+pmsgsendlater
+rv
+nscomponentmanager
+createinstance
+kmsgsendlatercid
+nsgetiid
+nsimsgsendlater
+getteraddrefs
+pmsgsendlater
+nssucceeded
+rv
+pmsgsendlater
+ifdef
+debug
+printf
+we
+succesfully
+obtained
+nsimsgsendlater
+endif
+sendlaterlistener
+sendlaterlistener
+sendlaterlistener
+sendlaterlistener
+nserroroutofmemory
+nsaddref
+sendlaterlistener
+pmsgsendlater
+addlistener
+sendlaterlistener
+pmsgsendlater
+setmsgwindow
+amsgwindow
+msendingunsentmsgs
+prtrue
+pmsgsendlater
+sendunsentmessages
+aidentity
+nsrelease
+sendlaterlistener
+nsok
+nssavemsglistener
+nssavemsglistener
+nsifilespec
+aspec
+nsmessenger
+amessenger
+aspec
+mfilespec
+doqueryinterface
+aspec
+mmessenger
+amessenger
+mdatabuffer
+nsnull
+mdocharsetconversion
+prfalse
+msaveallattachmentsstate
+nsnull
+nssavemsglistener
+nssavemsglistener
+nsimplisupports
+nssavemsglistener
+nsiurllistener
+nsimsgcopyservicelistener
+nsistreamlistener
+nsimethodimp
+nssavemsglistener
+onstartrunningurl
+nsiuri
+url
+nsok
+nsimethodimp
+nssavemsglistener
+onstoprunningurl
+nsiuri
+url
+nsresult
+exitcode
+nsresult
+rv
+exitcode
+prbool
+killself
+prtrue
+mfilespec
+mfilespec
+flush
+mfilespec
+closestream
+nsfailed
+rv
+done
+mtemplateuri
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+krdfservicecid
+rv
+nsfailed
+rv
+done
+nscomptr
+nsirdfresource
+res
+rv
+rdf
+getresource
+mtemplateuri
+getteraddrefs
+res
+nsfailed
+rv
+done
+nscomptr
+nsimsgfolder
+templatefolder
+templatefolder
+doqueryinterface
+res
+rv
+nsfailed
+rv
+done
+nscomptr
+nsimsgcopyservice
+copyservice
+dogetservice
+nsmsgcopyservicecontractid
+copyservice
+rv
+copyservice
+copyfilemessage
+mfilespec
+templatefolder
+nsnull
+prtrue
+nsnull
+killself
+prfalse
+done
+nsfailed
+rv
+mfilespec
+nsfilespec
+realspec
+mfilespec
+getfilespec
+realspec
+realspec
+delete
+prfalse
+mmessenger
+mmessenger
+alert
+savemessagefailed
+killself
+release
+rv
+nsimethodimp
+nssavemsglistener
+onstartcopy
+nsok
+nsimethodimp
+nssavemsglistener
+onprogress
+pruint
+aprogress
+pruint
+aprogressmax
+nsok
+nsimethodimp
+nssavemsglistener
+setmessagekey
+pruint
+akey
+nserrornotimplemented
+nsimethodimp
+nssavemsglistener
+getmessageid
+nscstring
+amessageid
+nserrornotimplemented
+nsimethodimp
+nssavemsglistener
+onstopcopy
+nsresult
+astatus
+mfilespec
+nsfilespec
+realspec
+mfilespec
+getfilespec
+realspec
+realspec
+delete
+prfalse
+release
+astatus
+nsimethodimp
+nssavemsglistener
+onstartrequest
+nsirequest
+request
+nsisupports
+asupport
+nsresult
+rv
+nsok
+mfilespec
+rv
+mfilespec
+getoutputstream
+getteraddrefs
+moutputstream
+nsfailed
+rv
+mmessenger
+mmessenger
+alert
+saveattachmentfailed
+mdatabuffer
+mdatabuffer
+prcalloc
+fourk
+defined
+xpmac
+defined
+xpmacosx
+mcontenttype
+isempty
+nsfilespec
+realspec
+mfilespec
+getfilespec
+realspec
+nscomptr
+nsilocalfile
+outputfile
+nsfilespectoifile
+realspec
+getteraddrefs
+outputfile
+nscrt
+strcasecmp
+mcontenttype
+get
+applicationapplefile
+nscrt
+strcasecmp
+mcontenttype
+get
+multipartappledouble
+nscomptr
+nsiapplefiledecoder
+applefiledecoder
+docreateinstance
+nsiapplefiledecodercontractid
+rv
+nssucceeded
+rv
+applefiledecoder
+rv
+applefiledecoder
+initialize
+moutputstream
+outputfile
+nssucceeded
+rv
+moutputstream
+doqueryinterface
+applefiledecoder
+rv
+nscomptr
+nsimimeservice
+mimeservice
+dogetservice
+nsmimeservicecontractid
+mimeservice
+nscomptr
+nsimimeinfo
+mimeinfo
+nssucceeded
+mimeservice
+getfrommimetype
+mcontenttype
+get
+getteraddrefs
+mimeinfo
+pruint
+amactype
+pruint
+amaccreator
+nssucceeded
+mimeinfo
+getmactype
+amactype
+nssucceeded
+mimeinfo
+getmaccreator
+amaccreator
+nscomptr
+nsilocalfilemac
+macfile
+doqueryinterface
+outputfile
+rv
+nssucceeded
+rv
+macfile
+macfile
+setfilecreator
+ostype
+amaccreator
+macfile
+setfiletype
+ostype
+amactype
+endif
+rv
+nsimethodimp
+nssavemsglistener
+onstoprequest
+nsirequest
+request
+nsisupports
+asupport
+nsresult
+status
+nsresult
+rv
+nsok
+mdocharsetconversion
+mfilespec
+conbuf
+nsnull
+pruint
+conlength
+moutputformat
+equalswithconversion
+textplain
+convertbuftoplaintext
+mmsgbuffer
+rv
+nsmsginsaveascharset
+textplain
+nsmsginfilesystemcharset
+mmsgbuffer
+get
+conbuf
+nssucceeded
+rv
+conbuf
+conlength
+strlen
+conbuf
+nssucceeded
+rv
+conbuf
+pruint
+writecount
+rv
+moutputstream
+write
+conbuf
+conlength
+writecount
+conlength
+writecount
+rv
+nserrorfailure
+prfreeif
+conbuf
+mfilespec
+mfilespec
+flush
+mfilespec
+closestream
+moutputstream
+nsnull
+msaveallattachmentsstate
+msaveallattachmentsstate
+mcurindex
+msaveallattachmentsstate
+mcurindex
+msaveallattachmentsstate
+mcount
+unescapedurl
+nsnull
+unescapedname
+nsnull
+nssaveallattachmentsstate
+state
+msaveallattachmentsstate
+pruint
+state
+mcurindex
+nscomptr
+nsifilespec
+filespec
+nsfilespec
+afilespec
+state
+mdirectoryname
+rv
+nsnewfilespec
+getteraddrefs
+filespec
+nsfailed
+rv
+done
+unescapedurl
+plstrdup
+state
+murlarray
+nsunescape
+unescapedurl
+rv
+convertandsanitizefilename
+state
+mdisplaynamearray
+nsnull
+unescapedname
+nsfailed
+rv
+done
+afilespec
+unescapedname
+rv
+mmessenger
+promptiffileexists
+afilespec
+nsfailed
+rv
+done
+filespec
+setfromfilespec
+afilespec
+rv
+mmessenger
+saveattachment
+filespec
+unescapedurl
+state
+mmessageuriarray
+state
+mcontenttypearray
+state
+done
+nsfailed
+rv
+state
+msaveallattachmentsstate
+nsnull
+prfreeif
+unescapedurl
+prfreeif
+unescapedname
+msaveallattachmentsstate
+msaveallattachmentsstate
+nsnull
+release
+nsok
+nsimethodimp
+nssavemsglistener
+ondataavailable
+nsirequest
+request
+nsisupports
+asupport
+nsiinputstream
+instream
+pruint
+srcoffset
+pruint
+count
+nsresult
+rv
+nserrorfailure
+mdatabuffer
+moutputstream
+pruint
+available
+readcount
+maxreadcount
+fourk
+pruint
+writecount
+rv
+instream
+available
+available
+nssucceeded
+rv
+available
+maxreadcount
+available
+maxreadcount
+available
+memset
+mdatabuffer
+fourk
+rv
+instream
+read
+mdatabuffer
+maxreadcount
+readcount
+nssucceeded
+rv
+mdocharsetconversion
+moutputformat
+equalswithconversion
+textplain
+mmsgbuffer
+append
+nsconvertutftoucs
+mdatabuffer
+readcount
+rv
+moutputstream
+write
+mdatabuffer
+readcount
+writecount
+available
+readcount
+rv
+define
+messengerstringurl
+messenger
+locale
+messenger
+properties
+nsresult
+nsmessenger
+initstringbundle
+nsresult
+res
+nsok
+mstringbundle
+propertyurl
+messengerstringurl
+nscomptr
+nsistringbundleservice
+sbundleservice
+dogetservice
+nsstringbundlecontractid
+res
+nssucceeded
+res
+nsnull
+sbundleservice
+res
+sbundleservice
+createbundle
+propertyurl
+getteraddrefs
+mstringbundle
+res
+prunichar
+nsmessenger
+getstring
+prunichar
+astringname
+nsresult
+res
+nsok
+prunichar
+ptrv
+nsnull
+mstringbundle
+res
+initstringbundle
+mstringbundle
+res
+mstringbundle
+getstringfromname
+astringname
+ptrv
+nssucceeded
+res
+ptrv
+ptrv
+nscrt
+strdup
+astringname
+nssaveallattachmentsstate
+nssaveallattachmentsstate
+pruint
+count
+contenttypearray
+urlarray
+namearray
+uriarray
+dirname
+pruint
+nsassertion
+count
+urlarray
+namearray
+uriarray
+dirname
+fatal
+invalid
+parameters
+mcount
+count
+mcurindex
+mcontenttypearray
+count
+murlarray
+count
+mdisplaynamearray
+count
+mmessageuriarray
+count
+count
+mcontenttypearray
+nscrt
+strdup
+contenttypearray
+murlarray
+nscrt
+strdup
+urlarray
+mdisplaynamearray
+nscrt
+strdup
+namearray
+mmessageuriarray
+nscrt
+strdup
+uriarray
+mdirectoryname
+nscrt
+strdup
+dirname
+nssaveallattachmentsstate
+nssaveallattachmentsstate
+pruint
+mcount
+nscrt
+free
+mcontenttypearray
+nscrt
+free
+murlarray
+nscrt
+free
+mdisplaynamearray
+nscrt
+free
+mmessageuriarray
+mcontenttypearray
+murlarray
+mdisplaynamearray
+mmessageuriarray
+nscrt
+free
+mdirectoryname
+nsresult
+nsmessenger
+getlastsavedirectory
+nsilocalfile
+alastsavedir
+nsresult
+rv
+nscomptr
+nsiprefservice
+prefs
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+rv
+prefs
+getbranch
+nsnull
+getteraddrefs
+prefbranch
+nsensuresuccess
+rv
+rv
+nscomptr
+nsilocalfile
+localfile
+rv
+prefbranch
+getcomplexvalue
+messengersavedirprefname
+nsgetiid
+nsilocalfile
+getteraddrefs
+localfile
+nssucceeded
+rv
+nsifaddref
+alastsavedir
+localfile
+rv
+nsresult
+nsmessenger
+setlastsavedirectory
+nsilocalfile
+alocalfile
+nsresult
+rv
+nscomptr
+nsiprefservice
+prefs
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+rv
+prefs
+getbranch
+nsnull
+getteraddrefs
+prefbranch
+nsensuresuccess
+rv
+rv
+nscomptr
+nsifile
+file
+doqueryinterface
+alocalfile
+rv
+nsensuresuccess
+rv
+rv
+prbool
+isdirectory
+rv
+file
+isdirectory
+isdirectory
+nssucceeded
+rv
+isdirectory
+rv
+prefbranch
+setcomplexvalue
+messengersavedirprefname
+nsgetiid
+nsilocalfile
+alocalfile
+nsensuresuccess
+rv
+rv
+nscomptr
+nsifile
+parent
+rv
+file
+getparent
+getteraddrefs
+parent
+nsensuresuccess
+rv
+rv
+nscomptr
+nsilocalfile
+parentlocalfile
+doqueryinterface
+parent
+rv
+nsensuresuccess
+rv
+rv
+rv
+prefbranch
+setcomplexvalue
+messengersavedirprefname
+nsgetiid
+nsilocalfile
+parentlocalfile
+nsensuresuccess
+rv
+rv
+nsok
\ No newline at end of file
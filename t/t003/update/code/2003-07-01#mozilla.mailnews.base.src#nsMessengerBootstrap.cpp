@@ -0,0 +1,184 @@
+nsmessengerbootstrap
+nscomptr
+nsdomcid
+nsmsgbasecid
+nsimsgmailsession
+nsimsgfoldercache
+nsipref
+nsidomwindow
+nsxpcom
+nsisupportsprimitives
+nsiwindowwatcher
+nsstring
+nsiuri
+nsidialogparamblock
+nsdefineiid
+kisupportsiid
+nsisupportsiid
+nsdefinecid
+kprefservicecid
+nsprefcid
+nsimplthreadsafeaddref
+nsmessengerbootstrap
+nsimplthreadsaferelease
+nsmessengerbootstrap
+nsimplqueryinterface
+nsmessengerbootstrap
+nsicmdlinehandler
+nsimessengerwindowservice
+nsmessengerbootstrap
+nsmessengerbootstrap
+nsmessengerbootstrap
+nsmessengerbootstrap
+cmdlinehandlerimpl
+nsmessengerbootstrap
+mail
+general
+startup
+mail
+start
+with
+mail
+nsmailstartuphandlercontractid
+mail
+cmd
+line
+handler
+prfalse
+prtrue
+nsimethodimp
+nsmessengerbootstrap
+getchromeurlfortask
+achromeurlfortask
+achromeurlfortask
+nserrorfailure
+nsresult
+rv
+nscomptr
+nsipref
+prefservice
+dogetservice
+kprefservicecid
+rv
+nssucceeded
+rv
+print
+layout
+rv
+prefservice
+getintpref
+mail
+paneconfig
+layout
+nssucceeded
+rv
+layout
+achromeurlfortask
+plstrdup
+messenger
+content
+messenger
+xul
+achromeurlfortask
+plstrdup
+messenger
+content
+mailpanewindowvertlayout
+xul
+nsok
+achromeurlfortask
+plstrdup
+messenger
+content
+messenger
+xul
+nsok
+nsimethodimp
+nsmessengerbootstrap
+openmessengerwindowwithuri
+windowtype
+afolderuri
+nsmsgkey
+amessagekey
+nsresult
+rv
+nsok
+nsxpidlcstring
+chromeurl
+rv
+getchromeurlfortask
+gettercopies
+chromeurl
+nsfailed
+rv
+rv
+nscomptr
+nsisupportsarray
+argsarray
+rv
+nsnewisupportsarray
+getteraddrefs
+argsarray
+nsensuresuccess
+rv
+rv
+afolderuri
+nscomptr
+nsisupportscstring
+scriptablefolderuri
+docreateinstance
+nssupportscstringcontractid
+nsensuretrue
+scriptablefolderuri
+nserrorfailure
+scriptablefolderuri
+setdata
+nsdependentcstring
+afolderuri
+argsarray
+appendelement
+scriptablefolderuri
+nscomptr
+nsisupportspruint
+scriptablemessagekey
+docreateinstance
+nssupportspruintcontractid
+nsensuretrue
+scriptablemessagekey
+nserrorfailure
+scriptablemessagekey
+setdata
+amessagekey
+argsarray
+appendelement
+scriptablemessagekey
+nscomptr
+nsiwindowwatcher
+wwatch
+dogetservice
+nswindowwatchercontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsidomwindow
+newwindow
+rv
+wwatch
+openwindow
+chromeurl
+get
+blank
+extrachrome
+menubar
+resizable
+scrollbars
+status
+toolbar
+dialog
+no
+argsarray
+getteraddrefs
+newwindow
+nsok
\ No newline at end of file
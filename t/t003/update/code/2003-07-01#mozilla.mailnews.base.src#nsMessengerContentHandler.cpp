@@ -0,0 +1,120 @@
+nsmessengercontenthandler
+nsichannel
+nscrt
+nsidomwindow
+nsiservicemanager
+nsiwindowwatcher
+nsidocshell
+nsiscriptglobalobject
+nsiwebnavigation
+nsimsgmailsession
+nsmsgbasecid
+nsmessengercontenthandler
+nsmessengercontenthandler
+nsinitisupports
+nsimplisupports
+nsmessengercontenthandler
+nsicontenthandler
+nsmessengercontenthandler
+nsmessengercontenthandler
+nsimethodimp
+nsmessengercontenthandler
+handlecontent
+acontenttype
+acommand
+nsisupports
+awindowcontext
+nsirequest
+request
+nsresult
+rv
+nsok
+request
+nserrornullpointer
+nscrt
+strcasecmp
+acontenttype
+message
+display
+nscomptr
+nsiuri
+auri
+nscomptr
+nsichannel
+achannel
+doqueryinterface
+request
+achannel
+nserrorfailure
+rv
+achannel
+geturi
+getteraddrefs
+auri
+auri
+rv
+request
+cancel
+nserrorabort
+nssucceeded
+rv
+nscomptr
+nsiurl
+aurl
+doqueryinterface
+auri
+aurl
+nscautostring
+querypart
+aurl
+getquery
+querypart
+querypart
+replacesubstring
+type
+message
+rfc
+type
+message
+display
+aurl
+setquery
+querypart
+rv
+openwindow
+auri
+rv
+nsresult
+nsmessengercontenthandler
+openwindow
+nsiuri
+auri
+nsensureargpointer
+auri
+nscomptr
+nsiwindowwatcher
+wwatch
+dogetservice
+embedcomp
+window
+watcher
+wwatch
+nserrorfailure
+nscomptr
+nsidomwindow
+newwindow
+wwatch
+openwindow
+messenger
+content
+messagewindow
+xul
+blank
+all
+dialog
+no
+status
+toolbar
+auri
+getteraddrefs
+newwindow
\ No newline at end of file
@@ -0,0 +1,4566 @@
+nsicomponentmanager
+nsiservicemanager
+nsisupportsarray
+nsnetutil
+prmem
+plstr
+prprf
+nsstring
+nsxpidlstring
+nscore
+nscrt
+nsfilestream
+nsidirectoryservice
+nsdirectoryservicedefs
+nsappdirectoryservicedefs
+nsifilespec
+nsilocalfile
+nsiurl
+nsnetcid
+nsistringbundle
+nsmessengermigrator
+nsmsgbasecid
+nsmsgcompcid
+nsimsgfoldercache
+nsmsgutils
+nsismtpservice
+nsiobserverservice
+nsimsgaccount
+nsimsgaccountmanager
+nsipopincomingserver
+nsiimapincomingserver
+nsinntpincomingserver
+nsinoincomingserver
+nsimsgprotocolinfo
+nsescape
+nsiuserinfo
+nsiabupgrader
+nsiaddressbook
+nsabbasecid
+nsimsgfilterservice
+nsimsgfilterlist
+nsiprefmigration
+define
+bufstrlen
+defined
+debugsspitzer
+defined
+debugseth
+define
+debugmigrator
+endif
+nsdefinecid
+kprefservicecid
+nsprefcid
+nsdefinecid
+kaddressbookcid
+nsaddressbookcid
+define
+imapschema
+imap
+define
+imapschemalength
+define
+mailboxschema
+mailbox
+define
+mailboxschemalength
+define
+popxmailtype
+define
+imapxmailtype
+ifdef
+havemovemail
+define
+movemailxmailtype
+endif
+define
+prefnewsdirectory
+news
+directory
+define
+prefmaildirectory
+mail
+directory
+define
+prefpremigrationmaildirectory
+premigration
+mail
+directory
+define
+prefpremigrationnewsdirectory
+premigration
+news
+directory
+define
+prefimapdirectory
+mail
+imap
+rootdir
+define
+prefmaildefaultsendlateruri
+mail
+defaultsendlateruri
+define
+localmailfakeusername
+nobody
+ifdef
+havemovemail
+define
+movemailfakehostname
+movemail
+endif
+define
+defaultxdraftsfoldername
+drafts
+define
+defaultxsentfoldername
+sent
+define
+defaultxtemplatesfoldername
+templates
+define
+unsentmessagesfoldername
+unsent
+messages
+define
+filterfilename
+msgfilterrules
+dat
+define
+prefxmailidentityuseremail
+mail
+identity
+useremail
+define
+prefxmailidentityusername
+mail
+identity
+username
+define
+prefxmailidentityreplyto
+mail
+identity
+replyto
+define
+prefxmailidentityorganization
+mail
+identity
+organization
+define
+prefxmailsignaturefile
+mail
+signaturefile
+define
+prefxmailsignaturedate
+mail
+signaturedate
+define
+prefxmailcomposehtml
+mail
+htmlcompose
+define
+prefxmailpopname
+mail
+popname
+define
+prefxmailrememberpassword
+mail
+rememberpassword
+define
+prefxmailpoppassword
+mail
+poppassword
+define
+prefxnetworkhostspopserver
+network
+hosts
+popserver
+define
+prefxmailchecknewmail
+mail
+checknewmail
+define
+prefxmailpopgetsnewmail
+mail
+popgetsnewmail
+define
+prefxmailchecktime
+mail
+checktime
+define
+prefxmailleaveonserver
+mail
+leaveonserver
+define
+prefxmaildeletemailleftonserver
+mail
+deletemailleftonserver
+define
+prefxnetworkhostssmtpserver
+network
+hosts
+smtpserver
+define
+prefxmailsmtpname
+mail
+smtpname
+define
+prefxmailsmtpssl
+mail
+smtp
+ssl
+define
+prefxmailservertype
+mail
+servertype
+define
+prefxnetworkhostsimapserver
+network
+hosts
+imapservers
+define
+prefxmailuseimapsentmail
+mail
+useimapsentmail
+define
+prefxnewsuseimapsentmail
+news
+useimapsentmail
+define
+prefxmailimapsentmailpath
+mail
+imapsentmailpath
+define
+prefxnewsimapsentmailpath
+news
+imapsentmailpath
+define
+prefxmaildefaultcc
+mail
+defaultcc
+define
+prefxnewsdefaultcc
+news
+defaultcc
+define
+prefxmaildefaultfcc
+mail
+defaultfcc
+define
+prefxnewsdefaultfcc
+news
+defaultfcc
+define
+prefxmailusedefaultcc
+mail
+usedefaultcc
+define
+prefxnewsusedefaultcc
+news
+usedefaultcc
+define
+prefxmaildefaultdrafts
+mail
+defaultdrafts
+define
+prefxmaildefaulttemplates
+mail
+defaulttemplates
+define
+prefxmailccself
+mail
+ccself
+define
+prefxnewsccself
+news
+ccself
+define
+prefxmailusefcc
+mail
+usefcc
+define
+prefxnewsusefcc
+news
+usefcc
+define
+prefxnewsmaxarticles
+news
+maxarticles
+define
+prefxnewsnotifyon
+news
+notify
+on
+define
+prefxnewsmarkoldread
+news
+markoldread
+define
+prefxautocompleteonlocalab
+ldap
+autocomplete
+useaddressbooks
+define
+prefmozillaautocompleteonlocalab
+mail
+enableautocomplete
+define
+defaultfccfolderprefname
+mail
+identity
+fccfolder
+define
+defaultdraftfolderprefname
+mail
+identity
+draftfolder
+define
+defaultstationeryfolderprefname
+mail
+identity
+stationeryfolder
+define
+prefmigrationmodeformail
+mail
+migration
+copymailfiles
+define
+escapeusername
+outname
+inname
+gettercopies
+outname
+nsescape
+inname
+urlxalphas
+define
+escapefoldername
+outname
+inname
+gettercopies
+outname
+nsescape
+inname
+urlpath
+define
+convertxuri
+identity
+fornews
+username
+hostname
+defaultfoldername
+macrogetter
+macrosetter
+defaultpref
+nsxpidlcstring
+macrooldstr
+nsresult
+macrorv
+macrorv
+identity
+macrogetter
+gettercopies
+macrooldstr
+nsfailed
+macrorv
+macrorv
+macrooldstr
+identity
+macrosetter
+converteduri
+nsnull
+macrorv
+convertxuri
+macrooldstr
+fornews
+username
+hostname
+defaultfoldername
+defaultpref
+converteduri
+nsfailed
+macrorv
+identity
+macrosetter
+identity
+macrosetter
+converteduri
+prfreeif
+converteduri
+define
+migratesimplefilepreftoboolpref
+prefname
+macroobject
+macromethod
+nsresult
+macrorv
+nscomptr
+nsifilespec
+macrospec
+macrorv
+mprefs
+getfilepref
+prefname
+getteraddrefs
+macrospec
+nssucceeded
+macrorv
+macrooldstr
+nsnull
+macrorv
+macrospec
+getunixstylefilepath
+macrooldstr
+nssucceeded
+macrorv
+macrooldstr
+plstrlen
+macrooldstr
+macroobject
+macromethod
+prtrue
+macroobject
+macromethod
+prfalse
+prfreeif
+macrooldstr
+define
+migratesimplefilepreftocharpref
+prefname
+macroobject
+macromethod
+nsresult
+macrorv
+nscomptr
+nsifilespec
+macrospec
+macroval
+nsnull
+macrorv
+mprefs
+copycharpref
+prefname
+macroval
+nssucceeded
+macrorv
+macroval
+plstrlen
+macroval
+macrorv
+mprefs
+getfilepref
+prefname
+getteraddrefs
+macrospec
+nssucceeded
+macrorv
+macrooldstr
+nsnull
+macrorv
+macrospec
+getunixstylefilepath
+macrooldstr
+nssucceeded
+macrorv
+macroobject
+macromethod
+macrooldstr
+prfreeif
+macrooldstr
+macroobject
+macromethod
+prfreeif
+macroval
+define
+migratesimplefilepreftofilepref
+prefname
+macroobject
+macromethod
+nsresult
+macrorv
+nscomptr
+nsilocalfile
+macrofile
+macrooldstr
+nsnull
+macrorv
+mprefs
+copycharpref
+prefname
+macrooldstr
+nssucceeded
+macrorv
+macrooldstr
+plstrlen
+macrooldstr
+macrorv
+mprefs
+getfilexpref
+prefname
+getteraddrefs
+macrofile
+nssucceeded
+macrorv
+macroobject
+macromethod
+macrofile
+prfreeif
+macrooldstr
+define
+migratesimplestrpref
+prefname
+macroobject
+macromethod
+nsresult
+macrorv
+macrooldstr
+nsnull
+macrorv
+mprefs
+copycharpref
+prefname
+macrooldstr
+nssucceeded
+macrorv
+macroobject
+macromethod
+macrooldstr
+prfreeif
+macrooldstr
+define
+migratesimplewstrpref
+prefname
+macroobject
+macromethod
+nsresult
+macrorv
+prunichar
+macrooldstr
+nsnull
+macrorv
+mprefs
+copyunicharpref
+prefname
+macrooldstr
+nssucceeded
+macrorv
+macroobject
+macromethod
+macrooldstr
+prfreeif
+macrooldstr
+define
+migratesimpleintpref
+prefname
+macroobject
+macromethod
+nsresult
+macrorv
+print
+oldint
+macrorv
+mprefs
+getintpref
+prefname
+oldint
+nssucceeded
+macrorv
+macroobject
+macromethod
+oldint
+define
+migratesimpleboolpref
+prefname
+macroobject
+macromethod
+nsresult
+macrorv
+prbool
+macrooldbool
+macrorv
+mprefs
+getboolpref
+prefname
+macrooldbool
+nssucceeded
+macrorv
+macroobject
+macromethod
+macrooldbool
+define
+migratestrpref
+prefformatstr
+prefformatvalue
+incomingserverptr
+incomingservermethod
+nsresult
+macrorv
+prefname
+bufstrlen
+macrooldstr
+nsnull
+prsnprintf
+prefname
+bufstrlen
+prefformatstr
+prefformatvalue
+macrorv
+mprefs
+copycharpref
+prefname
+macrooldstr
+nssucceeded
+macrorv
+incomingserverptr
+incomingservermethod
+macrooldstr
+prfreeif
+macrooldstr
+define
+migrateintpref
+prefformatstr
+prefformatvalue
+incomingserverptr
+incomingservermethod
+nsresult
+macrorv
+print
+oldint
+prefname
+bufstrlen
+prsnprintf
+prefname
+bufstrlen
+prefformatstr
+prefformatvalue
+macrorv
+mprefs
+getintpref
+prefname
+oldint
+nssucceeded
+macrorv
+incomingserverptr
+incomingservermethod
+oldint
+define
+migrateboolpref
+prefformatstr
+prefformatvalue
+incomingserverptr
+incomingservermethod
+nsresult
+macrorv
+prbool
+macrooldbool
+prefname
+bufstrlen
+prsnprintf
+prefname
+bufstrlen
+prefformatstr
+prefformatvalue
+macrorv
+mprefs
+getboolpref
+prefname
+macrooldbool
+nssucceeded
+macrorv
+incomingserverptr
+incomingservermethod
+macrooldbool
+nsimplisupports
+nsmessengermigrator
+nsimessengermigrator
+nsiobserver
+nsmessengermigrator
+nsmessengermigrator
+mhaveshutdown
+prfalse
+nsmessengermigrator
+nsmessengermigrator
+nsresult
+rv
+mhaveshutdown
+shutdown
+nscomptr
+nsiobserverservice
+observerservice
+dogetservice
+observer
+service
+rv
+nssucceeded
+rv
+observerservice
+removeobserver
+nsxpcomshutdownobserverid
+nsresult
+nsmessengermigrator
+init
+nsresult
+rv
+nscomptr
+nsiobserverservice
+observerservice
+dogetservice
+observer
+service
+rv
+nssucceeded
+rv
+observerservice
+addobserver
+nsxpcomshutdownobserverid
+prfalse
+initializestrings
+rv
+getprefservice
+nsfailed
+rv
+rv
+rv
+resetstate
+rv
+nsresult
+nsmessengermigrator
+shutdown
+mprefs
+mprefs
+nsnull
+mhaveshutdown
+prtrue
+nsok
+nsresult
+nsmessengermigrator
+getprefservice
+nsresult
+rv
+nsok
+mprefs
+mprefs
+dogetservice
+kprefservicecid
+rv
+nsfailed
+rv
+rv
+mprefs
+nserrorfailure
+nsok
+nsresult
+nsmessengermigrator
+initializestrings
+nsresult
+rv
+nscomptr
+nsistringbundleservice
+bundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsistringbundle
+bundle
+rv
+bundleservice
+createbundle
+messenger
+locale
+messenger
+properties
+getteraddrefs
+bundle
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+localfolders
+rv
+bundle
+getstringfromname
+nsliteralstring
+localfolders
+get
+gettercopies
+localfolders
+nsensuresuccess
+rv
+rv
+mlocalfoldersname
+assign
+localfolders
+mlocalfoldershostname
+newlocalmaildirname
+nsok
+nsimethodimp
+nsmessengermigrator
+observe
+nsisupports
+asubject
+atopic
+prunichar
+somedata
+nscrt
+strcmp
+atopic
+nsxpcomshutdownobserverid
+shutdown
+nsok
+nsresult
+nsmessengermigrator
+proceedwithmigration
+prefvalue
+nsnull
+nsresult
+rv
+nsok
+moldmailtype
+popxmailtype
+ifdef
+havemovemail
+moldmailtype
+movemailxmailtype
+endif
+rv
+mprefs
+copycharpref
+prefxmailpopname
+prefvalue
+nssucceeded
+rv
+prefvalue
+prefvalue
+rv
+nserrorfailure
+moldmailtype
+imapxmailtype
+rv
+mprefs
+copycharpref
+prefxnetworkhostsimapserver
+prefvalue
+nssucceeded
+rv
+prefvalue
+prefvalue
+rv
+nserrorfailure
+ifdef
+debugmigrator
+printf
+unrecognized
+server
+type
+moldmailtype
+endif
+rv
+nserrorunexpected
+prfreeif
+prefvalue
+rv
+nsimethodimp
+nsmessengermigrator
+createlocalmailaccount
+prbool
+migrating
+nsresult
+rv
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+accountmanager
+createincomingserver
+localmailfakeusername
+mlocalfoldershostname
+get
+none
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+server
+setprettyname
+mlocalfoldersname
+get
+nscomptr
+nsinoincomingserver
+noserver
+noserver
+doqueryinterface
+server
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsifile
+maildir
+nsfilespec
+dir
+prbool
+direxists
+migrating
+nscomptr
+nsilocalfile
+localfile
+rv
+mprefs
+getfilexpref
+prefmaildirectory
+getteraddrefs
+localfile
+nssucceeded
+rv
+maildir
+localfile
+maildir
+rv
+nsgetspecialdirectory
+nsappmaildir
+getteraddrefs
+maildir
+nsfailed
+rv
+rv
+rv
+maildir
+exists
+direxists
+nssucceeded
+rv
+direxists
+rv
+maildir
+create
+nsifile
+directorytype
+nsfailed
+rv
+rv
+nsxpidlcstring
+descstring
+nscomptr
+nsifilespec
+maildirspec
+rv
+nsnewfilespecfromifile
+maildir
+getteraddrefs
+maildirspec
+nsfailed
+rv
+rv
+rv
+server
+setdefaultlocalpath
+maildirspec
+nsfailed
+rv
+rv
+migrating
+rv
+maildirspec
+appendrelativeunixpath
+mlocalfoldershostname
+get
+nsfailed
+rv
+rv
+rv
+server
+setlocalpath
+maildirspec
+nsfailed
+rv
+rv
+rv
+maildirspec
+exists
+direxists
+direxists
+maildirspec
+createdir
+nscomptr
+nsimsgaccount
+account
+rv
+accountmanager
+createaccount
+getteraddrefs
+account
+nsfailed
+rv
+rv
+account
+setincomingserver
+server
+rv
+accountmanager
+setlocalfoldersserver
+server
+nsfailed
+rv
+rv
+nsok
+nsresult
+nsmessengermigrator
+resetstate
+malreadysetnntpdefaultlocalpath
+prfalse
+malreadysetimapdefaultlocalpath
+prfalse
+nsresult
+rv
+mprefs
+getintpref
+prefxmailservertype
+moldmailtype
+nsfailed
+rv
+moldmailtype
+rv
+nsimethodimp
+nsmessengermigrator
+upgradeprefs
+nsresult
+rv
+rv
+getprefservice
+nsfailed
+rv
+rv
+resetstate
+rv
+proceedwithmigration
+nsfailed
+rv
+ifdef
+debugmigrator
+printf
+fail
+don
+proceed
+with
+migration
+endif
+rv
+ifdef
+debugmigrator
+printf
+pass
+proceed
+with
+migration
+endif
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsimsgidentity
+identity
+rv
+accountmanager
+createidentity
+getteraddrefs
+identity
+nsfailed
+rv
+rv
+rv
+migrateidentity
+identity
+nsfailed
+rv
+rv
+nscomptr
+nsismtpservice
+smtpservice
+dogetservice
+nssmtpservicecontractid
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsismtpserver
+smtpserver
+rv
+smtpservice
+createsmtpserver
+getteraddrefs
+smtpserver
+nsfailed
+rv
+rv
+rv
+migratesmtpserver
+smtpserver
+nsfailed
+rv
+rv
+smtpservice
+setdefaultserver
+smtpserver
+moldmailtype
+popxmailtype
+rv
+migratepopaccount
+identity
+nsfailed
+rv
+rv
+rv
+createlocalmailaccount
+prtrue
+nsfailed
+rv
+rv
+moldmailtype
+imapxmailtype
+rv
+migrateimapaccounts
+identity
+nsfailed
+rv
+rv
+rv
+migratelocalmailaccount
+nsfailed
+rv
+rv
+ifdef
+havemovemail
+moldmailtype
+movemailxmailtype
+rv
+migratemovemailaccount
+identity
+nsfailed
+rv
+rv
+rv
+createlocalmailaccount
+prtrue
+nsfailed
+rv
+rv
+endif
+ifdef
+debugmigrator
+printf
+unrecognized
+server
+type
+moldmailtype
+endif
+nserrorunexpected
+rv
+migratenewsaccounts
+identity
+nsfailed
+rv
+rv
+rv
+migrateaddressbookprefs
+nsensuresuccess
+rv
+rv
+rv
+migrateaddressbooks
+nsfailed
+rv
+rv
+rv
+mprefs
+savepreffile
+nsnull
+nsfailed
+rv
+rv
+identity
+clearallvalues
+rv
+accountmanager
+removeidentity
+identity
+rv
+nsresult
+nsmessengermigrator
+setusernameifnecessary
+nsresult
+rv
+nsxpidlcstring
+usernameinx
+rv
+mprefs
+copycharpref
+prefxmailidentityusername
+gettercopies
+usernameinx
+nssucceeded
+rv
+usernameinx
+plstrlen
+usernameinx
+nsok
+nsxpidlstring
+fullnamefromsystem
+nscomptr
+nsiuserinfo
+userinfo
+dogetservice
+nsuserinfocontractid
+rv
+nsfailed
+rv
+rv
+userinfo
+nserrorfailure
+rv
+userinfo
+getfullname
+gettercopies
+fullnamefromsystem
+nsfailed
+rv
+prunichar
+fullnamefromsystem
+nsok
+rv
+mprefs
+setunicharpref
+prefxmailidentityusername
+prunichar
+fullnamefromsystem
+rv
+nsresult
+nsmessengermigrator
+migrateidentity
+nsimsgidentity
+identity
+nsresult
+rv
+rv
+setusernameifnecessary
+migratesimplestrpref
+prefxmailidentityuseremail
+identity
+setemail
+migratesimplewstrpref
+prefxmailidentityusername
+identity
+setfullname
+migratesimplestrpref
+prefxmailidentityreplyto
+identity
+setreplyto
+migratesimplewstrpref
+prefxmailidentityorganization
+identity
+setorganization
+migratesimpleboolpref
+prefxmailcomposehtml
+identity
+setcomposehtml
+migratesimplefilepreftofilepref
+prefxmailsignaturefile
+identity
+setsignature
+migratesimplefilepreftoboolpref
+prefxmailsignaturefile
+identity
+setattachsignature
+migratesimpleintpref
+prefxmailsignaturedate
+identity
+setsignaturedate
+nsok
+nsresult
+nsmessengermigrator
+migratesmtpserver
+nsismtpserver
+server
+migratesimplestrpref
+prefxnetworkhostssmtpserver
+server
+sethostname
+migratesimplestrpref
+prefxmailsmtpname
+server
+setusername
+migratesimpleintpref
+prefxmailsmtpssl
+server
+settryssl
+nsok
+nsresult
+nsmessengermigrator
+setnewscopiesandfolders
+nsimsgidentity
+identity
+nsresult
+rv
+migratesimpleboolpref
+prefxnewsccself
+identity
+setbccself
+migratesimpleboolpref
+prefxnewsusedefaultcc
+identity
+setbccothers
+migratesimplestrpref
+prefxnewsdefaultcc
+identity
+setbcclist
+migratesimpleboolpref
+prefxnewsusefcc
+identity
+setdofcc
+migratesimplestrpref
+prefxmaildefaultdrafts
+identity
+setdraftfolder
+migratesimplestrpref
+prefxmaildefaulttemplates
+identity
+setstationeryfolder
+prbool
+newsuseduriforsentinx
+rv
+mprefs
+getboolpref
+prefxnewsuseimapsentmail
+newsuseduriforsentinx
+nsfailed
+rv
+migratesimplefilepreftocharpref
+prefxnewsdefaultfcc
+identity
+setfccfolder
+newsuseduriforsentinx
+migratesimplestrpref
+prefxnewsimapsentmailpath
+identity
+setfccfolder
+migratesimplefilepreftocharpref
+prefxnewsdefaultfcc
+identity
+setfccfolder
+moldmailtype
+imapxmailtype
+convertxuri
+identity
+prtrue
+localmailfakeusername
+mlocalfoldershostname
+get
+defaultxsentfoldername
+getfccfolder
+setfccfolder
+defaultfccfolderprefname
+convertxuri
+identity
+prtrue
+localmailfakeusername
+mlocalfoldershostname
+get
+defaultxtemplatesfoldername
+getstationeryfolder
+setstationeryfolder
+defaultstationeryfolderprefname
+convertxuri
+identity
+prtrue
+localmailfakeusername
+mlocalfoldershostname
+get
+defaultxdraftsfoldername
+getdraftfolder
+setdraftfolder
+defaultdraftfolderprefname
+moldmailtype
+popxmailtype
+nsxpidlcstring
+popusername
+nsxpidlcstring
+pophostname
+rv
+mprefs
+copycharpref
+prefxmailpopname
+gettercopies
+popusername
+nsfailed
+rv
+rv
+rv
+mprefs
+copycharpref
+prefxnetworkhostspopserver
+gettercopies
+pophostname
+nsfailed
+rv
+rv
+convertxuri
+identity
+prtrue
+popusername
+get
+pophostname
+get
+defaultxsentfoldername
+getfccfolder
+setfccfolder
+defaultfccfolderprefname
+convertxuri
+identity
+prtrue
+popusername
+get
+pophostname
+get
+defaultxtemplatesfoldername
+getstationeryfolder
+setstationeryfolder
+defaultstationeryfolderprefname
+convertxuri
+identity
+prtrue
+popusername
+get
+pophostname
+get
+defaultxdraftsfoldername
+getdraftfolder
+setdraftfolder
+defaultdraftfolderprefname
+ifdef
+havemovemail
+moldmailtype
+movemailxmailtype
+nsxpidlcstring
+popusername
+rv
+mprefs
+copycharpref
+prefxmailpopname
+gettercopies
+popusername
+nsfailed
+rv
+rv
+convertxuri
+identity
+prtrue
+popusername
+get
+movemailfakehostname
+defaultxsentfoldername
+getfccfolder
+setfccfolder
+defaultfccfolderprefname
+convertxuri
+identity
+prtrue
+popusername
+get
+movemailfakehostname
+defaultxtemplatesfoldername
+getstationeryfolder
+setstationeryfolder
+defaultstationeryfolderprefname
+convertxuri
+identity
+prtrue
+popusername
+get
+movemailfakehostname
+defaultxdraftsfoldername
+getdraftfolder
+setdraftfolder
+defaultdraftfolderprefname
+endif
+nserrorunexpected
+nsok
+nsresult
+nsmessengermigrator
+setmailcopiesandfolders
+nsimsgidentity
+identity
+username
+hostname
+nsresult
+rv
+migratesimpleboolpref
+prefxmailccself
+identity
+setbccself
+migratesimpleboolpref
+prefxmailusedefaultcc
+identity
+setbccothers
+migratesimplestrpref
+prefxmaildefaultcc
+identity
+setbcclist
+migratesimpleboolpref
+prefxmailusefcc
+identity
+setdofcc
+migratesimplestrpref
+prefxmaildefaultdrafts
+identity
+setdraftfolder
+migratesimplestrpref
+prefxmaildefaulttemplates
+identity
+setstationeryfolder
+prbool
+imapuseduriforsentinx
+rv
+mprefs
+getboolpref
+prefxmailuseimapsentmail
+imapuseduriforsentinx
+nsfailed
+rv
+migratesimplefilepreftocharpref
+prefxmaildefaultfcc
+identity
+setfccfolder
+imapuseduriforsentinx
+migratesimplestrpref
+prefxmailimapsentmailpath
+identity
+setfccfolder
+migratesimplefilepreftocharpref
+prefxmaildefaultfcc
+identity
+setfccfolder
+convertxuri
+identity
+prfalse
+username
+hostname
+defaultxsentfoldername
+getfccfolder
+setfccfolder
+defaultfccfolderprefname
+convertxuri
+identity
+prfalse
+username
+hostname
+defaultxtemplatesfoldername
+getstationeryfolder
+setstationeryfolder
+defaultstationeryfolderprefname
+convertxuri
+identity
+prfalse
+username
+hostname
+defaultxdraftsfoldername
+getdraftfolder
+setdraftfolder
+defaultdraftfolderprefname
+nsok
+nsresult
+nsmessengermigrator
+convertxuri
+olduri
+prbool
+fornews
+ausername
+ahostname
+defaultfoldername
+defaultprefname
+newuri
+nsresult
+rv
+newuri
+nsnull
+olduri
+nserrornullpointer
+nsxpidlcstring
+defaultprefvalue
+rv
+mprefs
+copycharpref
+defaultprefname
+gettercopies
+defaultprefvalue
+nsensuresuccess
+rv
+rv
+nscrt
+strcmp
+olduri
+defaultprefvalue
+get
+ausername
+ahostname
+newuri
+prsmprintf
+nsok
+moldmailtype
+imapxmailtype
+fornews
+nsxpidlcstring
+escapedausername
+escapeusername
+escapedausername
+ausername
+newuri
+prsmprintf
+imapschema
+escapedausername
+ahostname
+defaultfoldername
+moldmailtype
+popxmailtype
+ifdef
+havemovemail
+moldmailtype
+movemailxmailtype
+endif
+moldmailtype
+imapxmailtype
+nsxpidlcstring
+escapedausername
+escapeusername
+escapedausername
+ausername
+newuri
+prsmprintf
+mailboxschema
+escapedausername
+ahostname
+defaultfoldername
+newuri
+prsmprintf
+nserrorunexpected
+nsok
+ifdef
+debugmigrator
+printf
+old
+folder
+uri
+olduri
+endif
+plstrncasecmp
+imapschema
+olduri
+imapschemalength
+nsxpidlcstring
+hostname
+nsxpidlcstring
+username
+nscomptr
+nsiuri
+uri
+rv
+nsnewuri
+getteraddrefs
+uri
+nsdependentcstring
+olduri
+nsfailed
+rv
+rv
+rv
+uri
+gethost
+hostname
+nsfailed
+rv
+rv
+rv
+uri
+getusername
+username
+nsfailed
+rv
+rv
+username
+isempty
+imapusername
+nsnull
+prefname
+nsnull
+prefname
+prsmprintf
+mail
+imap
+server
+username
+hostname
+get
+prefname
+nserrorfailure
+rv
+mprefs
+copycharpref
+prefname
+imapusername
+prfreeif
+prefname
+nsfailed
+rv
+imapusername
+imapusername
+newuri
+prsmprintf
+nserrorfailure
+ifdef
+debugmigrator
+printf
+newuri
+imapschema
+imapusername
+hostname
+get
+defaultfoldername
+endif
+newuri
+prsmprintf
+imapschema
+imapusername
+hostname
+get
+defaultfoldername
+nsok
+ifdef
+debugmigrator
+printf
+newuri
+imapschema
+olduri
+imapschemalength
+endif
+unescapeduri
+nscrt
+strdup
+olduri
+nsunescape
+unescapeduri
+newuri
+prsmprintf
+imapschema
+unescapeduri
+imapschemalength
+nscrt
+free
+unescapeduri
+nsok
+usernameathostname
+nsnull
+nscomptr
+nsifilespec
+maildir
+maildirectoryvalue
+nsnull
+rv
+mprefs
+getfilepref
+prefpremigrationmaildirectory
+getteraddrefs
+maildir
+nssucceeded
+rv
+rv
+maildir
+getunixstylefilepath
+maildirectoryvalue
+nsfailed
+rv
+maildirectoryvalue
+maildirectoryvalue
+ifdef
+debugmigrator
+printf
+was
+set
+attempting
+to
+use
+instead
+prefpremigrationmaildirectory
+prefmaildirectory
+endif
+prfreeif
+maildirectoryvalue
+rv
+mprefs
+getfilepref
+prefmaildirectory
+getteraddrefs
+maildir
+nssucceeded
+rv
+rv
+maildir
+getunixstylefilepath
+maildirectoryvalue
+nsfailed
+rv
+maildirectoryvalue
+maildirectoryvalue
+nsassertion
+failed
+to
+get
+base
+value
+the
+mail
+directory
+nserrorunexpected
+moldmailtype
+popxmailtype
+nsxpidlcstring
+popusername
+nsxpidlcstring
+pophostname
+rv
+mprefs
+copycharpref
+prefxmailpopname
+gettercopies
+popusername
+nsfailed
+rv
+rv
+rv
+mprefs
+copycharpref
+prefxnetworkhostspopserver
+gettercopies
+pophostname
+nsfailed
+rv
+rv
+nsxpidlcstring
+escapedpopusername
+escapedpophostname
+escapeusername
+escapedpophostname
+pophostname
+escapeusername
+escapedpopusername
+popusername
+usernameathostname
+prsmprintf
+escapedpopusername
+get
+escapedpophostname
+get
+moldmailtype
+imapxmailtype
+nsxpidlcstring
+escapedlocalfolderhostname
+escapeusername
+escapedlocalfolderhostname
+mlocalfoldershostname
+get
+usernameathostname
+prsmprintf
+localmailfakeusername
+escapedlocalfolderhostname
+get
+ifdef
+havemovemail
+moldmailtype
+movemailxmailtype
+nsxpidlcstring
+movemailusername
+rv
+mprefs
+copycharpref
+prefxmailpopname
+gettercopies
+movemailusername
+nsfailed
+rv
+rv
+nsxpidlcstring
+escapedmovemailusername
+escapeusername
+escapedmovemailusername
+movemailusername
+usernameathostname
+prsmprintf
+escapedmovemailusername
+movemailfakehostname
+endif
+ifdef
+debugmigrator
+printf
+unrecognized
+server
+type
+moldmailtype
+endif
+nserrorunexpected
+folderpath
+plstrncasecmp
+mailboxschema
+olduri
+mailboxschemalength
+ifdef
+debugmigrator
+printf
+turn
+into
+olduri
+mailboxschema
+usernameathostname
+olduri
+mailboxschemalength
+maildirectoryvalue
+endif
+folderpath
+olduri
+mailboxschemalength
+plstrlen
+maildirectoryvalue
+ifdef
+debugmigrator
+printf
+turn
+into
+olduri
+mailboxschema
+usernameathostname
+olduri
+maildirectoryvalue
+endif
+folderpath
+olduri
+plstrlen
+maildirectoryvalue
+folderpath
+folderpath
+nsxpidlcstring
+escapeddefaultfolder
+escapefoldername
+escapeddefaultfolder
+defaultfoldername
+newuri
+prsmprintf
+mailboxschema
+usernameathostname
+escapeddefaultfolder
+get
+nscautostring
+cleanfolderpath
+folderpath
+cleanfolderpath
+replacesubstring
+sbd
+nsxpidlcstring
+escapedfolderpath
+escapefoldername
+escapedfolderpath
+cleanfolderpath
+get
+newuri
+prsmprintf
+mailboxschema
+usernameathostname
+folderpath
+escapedfolderpath
+get
+newuri
+ifdef
+debugmigrator
+printf
+failed
+to
+convert
+uri
+olduri
+endif
+nsassertion
+uri
+conversion
+code
+complete
+nserrorfailure
+prfreeif
+usernameathostname
+prfreeif
+maildirectoryvalue
+nsok
+nsresult
+nsmessengermigrator
+migratelocalmailaccount
+nsresult
+rv
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+accountmanager
+createincomingserver
+localmailfakeusername
+mlocalfoldershostname
+get
+none
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+nscomptr
+nsinoincomingserver
+noserver
+noserver
+doqueryinterface
+server
+rv
+nsfailed
+rv
+rv
+server
+setprettyname
+mlocalfoldersname
+get
+nscomptr
+nsifile
+maildir
+nsfilespec
+dir
+prbool
+direxists
+nscomptr
+nsilocalfile
+localfile
+rv
+mprefs
+getfilexpref
+prefmaildirectory
+getteraddrefs
+localfile
+nssucceeded
+rv
+maildir
+localfile
+maildir
+rv
+nsgetspecialdirectory
+nsappmaildir
+getteraddrefs
+maildir
+nsfailed
+rv
+rv
+rv
+maildir
+exists
+direxists
+nssucceeded
+rv
+direxists
+rv
+maildir
+create
+nsifile
+directorytype
+nsfailed
+rv
+rv
+nscomptr
+nsifilespec
+maildirspec
+rv
+nsnewfilespecfromifile
+maildir
+getteraddrefs
+maildirspec
+nsfailed
+rv
+rv
+rv
+server
+setdefaultlocalpath
+maildirspec
+nsfailed
+rv
+rv
+prbool
+copymailfileinmigration
+prtrue
+rv
+mprefs
+getboolpref
+prefmigrationmodeformail
+copymailfileinmigration
+nsfailed
+rv
+rv
+copymailfileinmigration
+rv
+maildirspec
+appendrelativeunixpath
+mlocalfoldershostname
+get
+nsfailed
+rv
+rv
+rv
+server
+setlocalpath
+maildirspec
+nsfailed
+rv
+rv
+rv
+maildirspec
+exists
+direxists
+direxists
+maildirspec
+createdir
+rv
+setsendlateruripref
+server
+nsfailed
+rv
+rv
+nscomptr
+nsinoincomingserver
+noneserver
+noneserver
+doqueryinterface
+server
+rv
+nsfailed
+rv
+rv
+noneserver
+nserrorfailure
+rv
+noneserver
+copydefaultmessages
+templates
+maildirspec
+nsfailed
+rv
+rv
+nscomptr
+nsimsgaccount
+account
+rv
+accountmanager
+createaccount
+getteraddrefs
+account
+nsfailed
+rv
+rv
+rv
+account
+setincomingserver
+server
+nsfailed
+rv
+rv
+rv
+accountmanager
+setlocalfoldersserver
+server
+nsfailed
+rv
+rv
+nsok
+ifdef
+havemovemail
+nsresult
+nsmessengermigrator
+migratemovemailaccount
+nsimsgidentity
+identity
+nsresult
+rv
+nscomptr
+nsimsgincomingserver
+server
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsfailed
+rv
+rv
+nsxpidlcstring
+username
+rv
+mprefs
+copycharpref
+prefxmailpopname
+gettercopies
+username
+nsfailed
+rv
+rv
+rv
+accountmanager
+createincomingserver
+username
+movemailfakehostname
+movemail
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgidentity
+copiedidentity
+rv
+accountmanager
+createidentity
+getteraddrefs
+copiedidentity
+nsfailed
+rv
+rv
+nscomptr
+nsifilespec
+maildir
+nsfilespec
+dir
+prbool
+direxists
+rv
+migrateoldmailprefs
+server
+nsfailed
+rv
+rv
+rv
+mprefs
+getfilepref
+prefmaildirectory
+getteraddrefs
+maildir
+nsfailed
+rv
+nscomptr
+nsifile
+afile
+rv
+nsgetspecialdirectory
+nsappmaildir
+getteraddrefs
+afile
+nsfailed
+rv
+rv
+nsnewfilespecfromifile
+afile
+getteraddrefs
+maildir
+nsfailed
+rv
+rv
+rv
+server
+setdefaultlocalpath
+maildir
+nsfailed
+rv
+rv
+rv
+maildir
+exists
+direxists
+direxists
+maildir
+createdir
+rv
+maildir
+appendrelativeunixpath
+movemailfakehostname
+nsfailed
+rv
+rv
+rv
+server
+setlocalpath
+maildir
+nsfailed
+rv
+rv
+rv
+maildir
+exists
+direxists
+direxists
+maildir
+createdir
+nscomptr
+nsimsgaccount
+account
+rv
+accountmanager
+createaccount
+getteraddrefs
+account
+nsfailed
+rv
+rv
+account
+setincomingserver
+server
+account
+addidentity
+copiedidentity
+rv
+copiedidentity
+copy
+identity
+nsfailed
+rv
+rv
+rv
+setmailcopiesandfolders
+copiedidentity
+username
+movemailfakehostname
+nsfailed
+rv
+rv
+rv
+setsendlateruripref
+server
+nsfailed
+rv
+rv
+rv
+accountmanager
+setdefaultaccount
+account
+rv
+endif
+nsresult
+nsmessengermigrator
+migratepopaccount
+nsimsgidentity
+identity
+nsresult
+rv
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsimsgincomingserver
+server
+nsxpidlcstring
+username
+rv
+mprefs
+copycharpref
+prefxmailpopname
+gettercopies
+username
+nsfailed
+rv
+rv
+nsxpidlcstring
+hostandport
+rv
+mprefs
+copycharpref
+prefxnetworkhostspopserver
+gettercopies
+hostandport
+nsfailed
+rv
+rv
+print
+port
+nscautostring
+hostname
+hostandport
+print
+colonpos
+hostname
+findchar
+colonpos
+hostname
+truncate
+colonpos
+nscautostring
+portstr
+hostandport
+colonpos
+print
+err
+port
+portstr
+tointeger
+err
+nsassertion
+err
+failed
+to
+get
+the
+port
+err
+port
+rv
+accountmanager
+createincomingserver
+username
+get
+hostname
+get
+pop
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+port
+server
+setport
+port
+nscomptr
+nsifile
+maildir
+nsfilespec
+dir
+prbool
+direxists
+ifdef
+debugmigrator
+print
+portvalue
+rv
+server
+getport
+portvalue
+printf
+hostname
+hostname
+get
+printf
+port
+portvalue
+endif
+rv
+migrateoldmailprefs
+server
+nsfailed
+rv
+rv
+nscomptr
+nsilocalfile
+localfile
+rv
+mprefs
+getfilexpref
+prefmaildirectory
+getteraddrefs
+localfile
+nssucceeded
+rv
+maildir
+localfile
+maildir
+rv
+nsgetspecialdirectory
+nsappmaildir
+getteraddrefs
+maildir
+nsfailed
+rv
+rv
+rv
+maildir
+exists
+direxists
+nssucceeded
+rv
+direxists
+rv
+maildir
+create
+nsifile
+directorytype
+nsfailed
+rv
+rv
+nscomptr
+nsifilespec
+maildirspec
+rv
+nsnewfilespecfromifile
+maildir
+getteraddrefs
+maildirspec
+nsfailed
+rv
+rv
+rv
+server
+setdefaultlocalpath
+maildirspec
+nsfailed
+rv
+rv
+rv
+maildirspec
+exists
+direxists
+direxists
+maildirspec
+createdir
+rv
+maildirspec
+appendrelativeunixpath
+hostname
+get
+nsfailed
+rv
+rv
+rv
+server
+setlocalpath
+maildirspec
+nsfailed
+rv
+rv
+rv
+maildirspec
+exists
+direxists
+direxists
+maildirspec
+createdir
+rv
+setsendlateruripref
+server
+nsfailed
+rv
+rv
+rv
+server
+setloginatstartup
+prtrue
+nscomptr
+nsimsgidentity
+copiedidentity
+rv
+accountmanager
+createidentity
+getteraddrefs
+copiedidentity
+nsfailed
+rv
+rv
+nscomptr
+nsimsgaccount
+account
+rv
+accountmanager
+createaccount
+getteraddrefs
+account
+nsfailed
+rv
+rv
+account
+setincomingserver
+server
+account
+addidentity
+copiedidentity
+rv
+accountmanager
+setdefaultaccount
+account
+nsensuresuccess
+rv
+rv
+rv
+copiedidentity
+copy
+identity
+nsfailed
+rv
+rv
+rv
+setmailcopiesandfolders
+copiedidentity
+username
+get
+hostname
+get
+nsfailed
+rv
+rv
+rv
+nsresult
+nsmessengermigrator
+setsendlateruripref
+nsimsgincomingserver
+server
+nsresult
+rv
+nsxpidlcstring
+username
+rv
+server
+getusername
+gettercopies
+username
+nsfailed
+rv
+rv
+nsxpidlcstring
+hostname
+rv
+server
+gethostname
+gettercopies
+hostname
+nsfailed
+rv
+rv
+nsxpidlcstring
+escapedusername
+escapedhostname
+escapeusername
+escapedhostname
+hostname
+escapeusername
+escapedusername
+username
+sendlateruristr
+nsnull
+sendlateruristr
+prsmprintf
+mailboxschema
+escapedusername
+get
+escapedhostname
+get
+unsentmessagesfoldername
+mprefs
+setcharpref
+prefmaildefaultsendlateruri
+sendlateruristr
+prfreeif
+sendlateruristr
+nsok
+nsresult
+nsmessengermigrator
+migrateoldmailprefs
+nsimsgincomingserver
+server
+nsresult
+rv
+rv
+server
+setrememberpassword
+prfalse
+nsfailed
+rv
+rv
+ifdef
+canupgradexpasswords
+migratesimplestrpref
+prefxmailpoppassword
+server
+setpassword
+rv
+server
+setpassword
+nsnull
+nsfailed
+rv
+rv
+endif
+migratesimpleboolpref
+prefxmailchecknewmail
+server
+setdobiff
+migratesimpleintpref
+prefxmailchecktime
+server
+setbiffminutes
+migratesimpleboolpref
+prefxmailpopgetsnewmail
+server
+setdownloadonbiff
+nscomptr
+nsipopincomingserver
+popserver
+popserver
+doqueryinterface
+server
+rv
+nssucceeded
+rv
+popserver
+migratesimpleboolpref
+prefxmailleaveonserver
+popserver
+setleavemessagesonserver
+migratesimpleboolpref
+prefxmaildeletemailleftonserver
+popserver
+setdeletemailleftonserver
+nsok
+nsresult
+nsmessengermigrator
+migrateimapaccounts
+nsimsgidentity
+identity
+nsresult
+rv
+hostlist
+nsnull
+rv
+getprefservice
+nsfailed
+rv
+rv
+rv
+mprefs
+copycharpref
+prefxnetworkhostsimapserver
+hostlist
+nsfailed
+rv
+rv
+hostlist
+hostlist
+nsok
+token
+nsnull
+rest
+nsconstcast
+hostlist
+nscautostring
+str
+prbool
+isdefaultaccount
+prtrue
+token
+nscrt
+strtok
+rest
+rest
+token
+token
+str
+token
+str
+stripwhitespace
+str
+isempty
+rv
+migrateimapaccount
+identity
+str
+get
+isdefaultaccount
+nsfailed
+rv
+rv
+str
+isdefaultaccount
+prfalse
+token
+nscrt
+strtok
+rest
+rest
+prfreeif
+hostlist
+nsok
+nsresult
+nsmessengermigrator
+migrateimapaccount
+nsimsgidentity
+identity
+hostandport
+prbool
+isdefaultaccount
+nsresult
+rv
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsfailed
+rv
+rv
+hostandport
+nserrornullpointer
+nsxpidlcstring
+username
+imapusernamepref
+prsmprintf
+mail
+imap
+server
+username
+hostandport
+rv
+mprefs
+copycharpref
+imapusernamepref
+gettercopies
+username
+prfreeif
+imapusernamepref
+nsensuresuccess
+rv
+rv
+prbool
+issecure
+prfalse
+imapissecurepref
+prsmprintf
+mail
+imap
+server
+issecure
+hostandport
+rv
+mprefs
+getboolpref
+imapissecurepref
+issecure
+prfreeif
+imapissecurepref
+nsensuresuccess
+rv
+rv
+print
+port
+nscautostring
+hostname
+hostandport
+print
+colonpos
+hostname
+findchar
+colonpos
+nscautostring
+portstr
+hostandport
+colonpos
+hostname
+truncate
+colonpos
+print
+err
+port
+portstr
+tointeger
+err
+nsassertion
+err
+failed
+to
+get
+the
+port
+err
+port
+nscomptr
+nsimsgincomingserver
+server
+rv
+accountmanager
+createincomingserver
+username
+get
+hostname
+get
+imap
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+port
+rv
+server
+setport
+port
+nsensuresuccess
+rv
+rv
+issecure
+nscomptr
+nsimsgprotocolinfo
+protocolinfo
+dogetservice
+messenger
+protocol
+info
+type
+imap
+rv
+nsensuresuccess
+rv
+rv
+rv
+protocolinfo
+getdefaultserverport
+prtrue
+port
+nsensuresuccess
+rv
+rv
+rv
+server
+setport
+port
+nsensuresuccess
+rv
+rv
+rv
+server
+setissecure
+issecure
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+prettyname
+rv
+server
+generateprettynameformigration
+gettercopies
+prettyname
+nsensuresuccess
+rv
+rv
+prettyname
+get
+rv
+server
+setprettyname
+prettyname
+nsensuresuccess
+rv
+rv
+ifdef
+debugmigrator
+print
+portvalue
+rv
+server
+getport
+portvalue
+printf
+hostname
+hostname
+get
+printf
+port
+portvalue
+endif
+rv
+migrateoldimapprefs
+server
+hostandport
+nsfailed
+rv
+rv
+nscomptr
+nsifile
+imapmaildir
+nsfilespec
+dir
+prbool
+direxists
+nscomptr
+nsilocalfile
+localfile
+rv
+mprefs
+getfilexpref
+prefimapdirectory
+getteraddrefs
+localfile
+nssucceeded
+rv
+imapmaildir
+localfile
+imapmaildir
+rv
+nsgetspecialdirectory
+nsappimapmaildir
+getteraddrefs
+imapmaildir
+nsfailed
+rv
+rv
+rv
+imapmaildir
+exists
+direxists
+nssucceeded
+rv
+direxists
+rv
+imapmaildir
+create
+nsifile
+directorytype
+nsfailed
+rv
+rv
+nscomptr
+nsifilespec
+imapmaildirspec
+rv
+nsnewfilespecfromifile
+imapmaildir
+getteraddrefs
+imapmaildirspec
+nsfailed
+rv
+rv
+malreadysetimapdefaultlocalpath
+rv
+server
+setdefaultlocalpath
+imapmaildirspec
+nsfailed
+rv
+rv
+malreadysetimapdefaultlocalpath
+prtrue
+rv
+imapmaildirspec
+appendrelativeunixpath
+hostname
+get
+nsfailed
+rv
+rv
+rv
+server
+setlocalpath
+imapmaildirspec
+nsfailed
+rv
+rv
+rv
+imapmaildirspec
+exists
+direxists
+direxists
+imapmaildirspec
+createdir
+nscomptr
+nsimsgidentity
+copiedidentity
+rv
+accountmanager
+createidentity
+getteraddrefs
+copiedidentity
+nsfailed
+rv
+rv
+nscomptr
+nsimsgaccount
+account
+rv
+accountmanager
+createaccount
+getteraddrefs
+account
+nsfailed
+rv
+rv
+account
+setincomingserver
+server
+account
+addidentity
+copiedidentity
+rv
+copiedidentity
+copy
+identity
+nsfailed
+rv
+rv
+rv
+setmailcopiesandfolders
+copiedidentity
+username
+get
+hostname
+get
+nsfailed
+rv
+rv
+isdefaultaccount
+rv
+accountmanager
+setdefaultaccount
+account
+nsfailed
+rv
+rv
+rv
+server
+setloginatstartup
+prtrue
+nsok
+nsresult
+nsmessengermigrator
+migrateoldimapprefs
+nsimsgincomingserver
+server
+hostandport
+nsresult
+rv
+nscomptr
+nsiimapincomingserver
+imapserver
+imapserver
+doqueryinterface
+server
+rv
+nsfailed
+rv
+rv
+rv
+server
+setrememberpassword
+prfalse
+nsfailed
+rv
+rv
+ifdef
+canupgradexpasswords
+migratestrpref
+mail
+imap
+server
+password
+hostandport
+server
+setpassword
+rv
+server
+setpassword
+nsnull
+nsfailed
+rv
+rv
+endif
+migrateboolpref
+mail
+imap
+server
+checknewmail
+hostandport
+server
+setdobiff
+migrateintpref
+mail
+imap
+server
+checktime
+hostandport
+server
+setbiffminutes
+migrateboolpref
+mail
+imap
+newmailgetheaders
+server
+setdownloadonbiff
+migratestrpref
+mail
+imap
+server
+adminurl
+hostandport
+imapserver
+setadminurl
+migratestrpref
+mail
+imap
+server
+serversubdirectory
+hostandport
+imapserver
+setserverdirectory
+migrateintpref
+mail
+imap
+server
+capability
+hostandport
+imapserver
+setcapabilitypref
+migrateboolpref
+mail
+imap
+server
+cleanupinboxonexit
+hostandport
+imapserver
+setcleanupinboxonexit
+migrateintpref
+mail
+imap
+server
+deletemodel
+hostandport
+imapserver
+setdeletemodel
+migrateboolpref
+mail
+imap
+server
+dualusefolders
+hostandport
+imapserver
+setdualusefolders
+migrateboolpref
+mail
+imap
+server
+emptytrashonexit
+hostandport
+server
+setemptytrashonexit
+migrateintpref
+mail
+imap
+server
+emptytrashthreshhold
+hostandport
+imapserver
+setemptytrashthreshhold
+migratestrpref
+mail
+imap
+server
+otherusers
+hostandport
+imapserver
+setotherusersnamespace
+migratestrpref
+mail
+imap
+server
+personal
+hostandport
+imapserver
+setpersonalnamespace
+migratestrpref
+mail
+imap
+server
+hostandport
+imapserver
+setpublicnamespace
+migrateboolpref
+mail
+imap
+server
+offlinedownload
+hostandport
+imapserver
+setofflinedownload
+migrateboolpref
+mail
+imap
+server
+overridenamespaces
+hostandport
+imapserver
+setoverridenamespaces
+migrateboolpref
+mail
+imap
+server
+usingsubscription
+hostandport
+imapserver
+setusingsubscription
+nsok
+prbool
+charendswith
+str
+endstr
+pruint
+endstrlen
+plstrlen
+endstr
+pruint
+strlen
+plstrlen
+str
+strlen
+endstrlen
+prfalse
+pruint
+pos
+strlen
+endstrlen
+plstrncmp
+str
+pos
+endstr
+endstrlen
+prtrue
+prfalse
+define
+addressbookprefnameroot
+ldap
+servers
+define
+addressbookprefnamesuffix
+filename
+define
+addressbookprefcsidsuffix
+csid
+define
+addressbookprefvaluexsuffix
+na
+define
+addressbookprefvaluexsuffix
+mab
+define
+templdiffilesuffix
+ldif
+defined
+debugsspitzer
+defined
+debugseth
+define
+debugabmigration
+endif
+nsmessengermigrator
+migrateaddressbookprefenum
+apref
+aclosure
+nsresult
+rv
+nsok
+nsipref
+prefs
+nsipref
+aclosure
+ifdef
+debugabmigration
+printf
+investigate
+pref
+apref
+endif
+charendswith
+apref
+addressbookprefnamesuffix
+nsxpidlcstring
+abfilename
+rv
+prefs
+copycharpref
+apref
+gettercopies
+abfilename
+nsassertion
+nssucceeded
+rv
+ab
+migration
+failed
+failed
+to
+get
+ab
+filename
+nsfailed
+rv
+nsassertion
+abfilename
+error
+empty
+addressbook
+file
+name
+abfilename
+nsassertion
+plstrlen
+abfilename
+error
+empty
+addressbook
+file
+name
+plstrlen
+abfilename
+ifdef
+debugabmigration
+printf
+pref
+value
+abfilename
+endif
+charendswith
+abfilename
+addressbookprefvaluexsuffix
+nscautostring
+abname
+abname
+abfilename
+print
+len
+abname
+length
+print
+suffixlen
+plstrlen
+addressbookprefvaluexsuffix
+nsassertion
+len
+suffixlen
+error
+bad
+length
+of
+addressbook
+filename
+len
+suffixlen
+abname
+setlength
+len
+suffixlen
+nscomptr
+nsifile
+abxfile
+nscomptr
+nsifilespec
+abxfilespec
+nscomptr
+nsifile
+tmpldiffile
+nscomptr
+nsifilespec
+tmpldiffilespec
+ifdef
+debugabmigration
+printf
+turn
+into
+abname
+addressbookprefvaluexsuffix
+abname
+templdiffilesuffix
+endif
+rv
+nsgetspecialdirectory
+nsappuserprofiledir
+getteraddrefs
+abxfile
+nsassertion
+nssucceeded
+rv
+abxfile
+ab
+migration
+failed
+failed
+to
+get
+profile
+dir
+nsfailed
+rv
+abxfile
+rv
+abxfile
+appendnative
+nsdependentcstring
+abfilename
+nsassertion
+nssucceeded
+rv
+ab
+migration
+failed
+failed
+to
+append
+filename
+nsfailed
+rv
+rv
+nsnewfilespecfromifile
+abxfile
+getteraddrefs
+abxfilespec
+nsfailed
+rv
+rv
+nsgetspecialdirectory
+nsostempdir
+getteraddrefs
+tmpldiffile
+nsfailed
+rv
+tmpldiffile
+rv
+tmpldiffile
+appendnative
+nsliteralcstring
+addr
+migrate
+nsfailed
+rv
+tmpldiffile
+rv
+tmpldiffile
+createunique
+nsifile
+directorytype
+nsfailed
+rv
+tmpldiffile
+rv
+nsnewfilespecfromifile
+tmpldiffile
+getteraddrefs
+tmpldiffilespec
+nsfailed
+rv
+nscautostring
+csidprefname
+csidprefname
+addressbookprefnameroot
+csidprefname
+abname
+csidprefname
+addressbookprefcsidsuffix
+nsxpidlcstring
+csidprefvalue
+rv
+prefs
+copycharpref
+csidprefname
+get
+gettercopies
+csidprefvalue
+nsfailed
+rv
+csidprefvalue
+adopt
+nscrt
+strdup
+nscomptr
+nsiabupgrader
+abupgrader
+dogetservice
+nsabxupgradercontractid
+rv
+nsassertion
+nssucceeded
+rv
+abupgrader
+failed
+to
+get
+upgrader
+nsfailed
+rv
+abupgrader
+rv
+abupgrader
+setcurrentcharset
+csidprefvalue
+nsassertion
+nssucceeded
+rv
+failed
+to
+set
+the
+current
+set
+nsfailed
+rv
+plstrcmp
+abname
+get
+pab
+abname
+abook
+nscautostring
+ldiffilename
+ldiffilename
+abname
+ldiffilename
+templdiffilesuffix
+rv
+tmpldiffilespec
+appendrelativeunixpath
+ldiffilename
+get
+nsassertion
+nssucceeded
+rv
+ab
+migration
+failed
+failed
+to
+append
+filename
+nsfailed
+rv
+nscomptr
+nsiaddressbook
+ab
+docreateinstance
+kaddressbookcid
+rv
+nsassertion
+nssucceeded
+rv
+ab
+failed
+to
+get
+address
+book
+nsfailed
+rv
+ab
+rv
+ab
+convertnatoldif
+abxfilespec
+tmpldiffilespec
+nsassertion
+nssucceeded
+rv
+ab
+migration
+failed
+failed
+to
+convert
+na
+to
+ldif
+nsfailed
+rv
+rv
+ab
+convertldiftomab
+tmpldiffilespec
+prtrue
+nsnull
+prfalse
+prfalse
+nsassertion
+nssucceeded
+rv
+ab
+migration
+filed
+failed
+to
+convert
+ldif
+to
+mab
+nsfailed
+rv
+ifdef
+debugabmigration
+printf
+set
+the
+pref
+to
+apref
+abname
+addressbookprefvaluexsuffix
+endif
+nscautostring
+newprefvalue
+newprefvalue
+abname
+newprefvalue
+addressbookprefvaluexsuffix
+rv
+prefs
+setcharpref
+apref
+newprefvalue
+get
+nsassertion
+nssucceeded
+rv
+ab
+migration
+failed
+failed
+to
+set
+pref
+nsfailed
+rv
+ifdef
+debugabmigration
+printf
+remove
+the
+tmp
+file
+endif
+rv
+abxfile
+remove
+prfalse
+nsassertion
+nssucceeded
+rv
+failed
+to
+the
+na
+file
+nsfailed
+rv
+rv
+tmpldiffile
+remove
+prtrue
+nsassertion
+nssucceeded
+rv
+failed
+to
+the
+temp
+ldif
+file
+nsresult
+nsmessengermigrator
+migrateaddressbookprefs
+nsresult
+rv
+prbool
+autocompleteagainstlocaladdressbooks
+rv
+mprefs
+getboolpref
+prefxautocompleteonlocalab
+autocompleteagainstlocaladdressbooks
+nssucceeded
+rv
+rv
+mprefs
+setboolpref
+prefmozillaautocompleteonlocalab
+autocompleteagainstlocaladdressbooks
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsmessengermigrator
+migrateaddressbooks
+nsresult
+rv
+nsok
+nscomptr
+nsiabupgrader
+abupgrader
+dogetservice
+nsabxupgradercontractid
+rv
+nsfailed
+rv
+abupgrader
+printf
+the
+addressbook
+migrator
+is
+only
+in
+the
+commercial
+builds
+nsok
+rv
+mprefs
+enumeratechildren
+addressbookprefnameroot
+migrateaddressbookprefenum
+mprefs
+rv
+ifdef
+usenewsrcmapfile
+define
+newsrcmapfilecookie
+netscape
+newsrc
+map
+file
+endif
+nsresult
+nsmessengermigrator
+migratenewsaccounts
+nsimsgidentity
+identity
+nsresult
+rv
+nscomptr
+nsifile
+newsdir
+nsfilespec
+newsrcdir
+nsfilespec
+newshostsdir
+ifdef
+usenewsrcmapfile
+nscomptr
+nsilocalfile
+localfile
+rv
+mprefs
+getfilexpref
+prefnewsdirectory
+getteraddrefs
+localfile
+nssucceeded
+rv
+newsdir
+localfile
+rv
+nserrorfailure
+endif
+newsdir
+rv
+nsgetspecialdirectory
+nsappnewsdir
+getteraddrefs
+newsdir
+nsfailed
+rv
+rv
+prbool
+direxists
+rv
+newsdir
+exists
+direxists
+nssucceeded
+rv
+direxists
+newsdir
+create
+nsifile
+directorytype
+nsfailed
+rv
+rv
+nscautostring
+pathbuf
+rv
+newsdir
+getnativepath
+pathbuf
+nsfailed
+rv
+rv
+newshostsdir
+pathbuf
+get
+ifdef
+usenewsrcmapfile
+newsrcdir
+newshostsdir
+nsfilespec
+fatfile
+newsrcdir
+fatfile
+newsfatfilename
+buffer
+psuedoname
+filename
+isnewsgroup
+prbool
+ok
+fatfile
+exists
+nsok
+nsinputfilestream
+inputstream
+fatfile
+inputstream
+eof
+inputstream
+close
+nsok
+ok
+inputstream
+readline
+buffer
+buffer
+ok
+plstrncmp
+buffer
+newsrcmapfilecookie
+plstrlen
+newsrcmapfilecookie
+inputstream
+close
+nserrorfailure
+inputstream
+eof
+print
+ok
+inputstream
+readline
+buffer
+buffer
+ok
+inputstream
+close
+nserrorfailure
+filename
+isnewsgroup
+buffer
+psuedoname
+psuedoname
+filename
+filename
+isnewsgroup
+isnewsgroup
+plstrncmp
+isnewsgroup
+true
+ifdef
+newsfatstoresabsolutenewsrcfilepaths
+nsfilespec
+oldrcfile
+filename
+leaf
+oldrcfile
+getleafname
+nsfilespec
+rcfile
+newsrcdir
+rcfile
+leaf
+nscrt
+free
+leaf
+leaf
+nsnull
+nsfilespec
+rcfile
+newsrcdir
+rcfile
+filename
+endif
+plstrncmp
+psuedonameprefix
+psuedoname
+plstrlen
+psuedonameprefix
+nsassertion
+plstrlen
+psuedoname
+plstrlen
+psuedonameprefix
+psuedoname
+is
+too
+plstrlen
+psuedoname
+plstrlen
+psuedonameprefix
+nserrorfailure
+hostname
+psuedoname
+plstrlen
+psuedonameprefix
+rv
+migratenewsaccount
+identity
+hostname
+rcfile
+newshostsdir
+prfalse
+nsfailed
+rv
+rv
+plstrncmp
+psuedosecurenameprefix
+psuedoname
+plstrlen
+psuedosecurenameprefix
+nsassertion
+plstrlen
+psuedoname
+plstrlen
+psuedosecurenameprefix
+psuedoname
+is
+too
+plstrlen
+psuedoname
+plstrlen
+psuedosecurenameprefix
+nserrorfailure
+hostname
+psuedoname
+plstrlen
+psuedosecurenameprefix
+rv
+migratenewsaccount
+identity
+hostname
+rcfile
+newshostsdir
+prtrue
+nsfailed
+rv
+rv
+inputstream
+close
+nscomptr
+nsilocalfile
+preflocal
+rv
+mprefs
+getfilexpref
+prefnewsdirectory
+getteraddrefs
+preflocal
+nsfailed
+rv
+rv
+newsdir
+preflocal
+nscautostring
+pathbuf
+newsdir
+getnativepath
+pathbuf
+nsfailed
+rv
+rv
+newsrcdir
+pathbuf
+get
+nsdirectoryiterator
+newsrcdir
+prfalse
+exists
+nsfilespec
+possiblercfile
+spec
+filename
+possiblercfile
+getleafname
+plstrncmp
+newsrcfileprefixinx
+filename
+plstrlen
+newsrcfileprefixinx
+plstrlen
+filename
+plstrlen
+newsrcfileprefixinx
+ifdef
+debugmigrator
+printf
+found
+newsrc
+file
+filename
+endif
+hostname
+filename
+plstrlen
+newsrcfileprefixinx
+rv
+migratenewsaccount
+identity
+hostname
+possiblercfile
+newshostsdir
+prfalse
+nsfailed
+rv
+nscrt
+free
+filename
+rv
+plstrncmp
+snewsrcfileprefixinx
+filename
+plstrlen
+snewsrcfileprefixinx
+plstrlen
+filename
+plstrlen
+snewsrcfileprefixinx
+ifdef
+debugmigrator
+printf
+found
+secure
+newsrc
+file
+filename
+endif
+hostname
+filename
+plstrlen
+snewsrcfileprefixinx
+rv
+migratenewsaccount
+identity
+hostname
+possiblercfile
+newshostsdir
+prtrue
+nsfailed
+rv
+nscrt
+free
+filename
+rv
+nscrt
+free
+filename
+filename
+nsnull
+endif
+nsok
+nsresult
+nsmessengermigrator
+migratenewsaccount
+nsimsgidentity
+identity
+hostandport
+nsfilespec
+newsrcfile
+nsfilespec
+newshostsdir
+prbool
+issecure
+nsresult
+rv
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsfailed
+rv
+rv
+nsfilespec
+thisnewshostsdir
+newshostsdir
+identity
+nserrornullpointer
+hostandport
+nserrornullpointer
+print
+port
+nscautostring
+hostname
+hostandport
+print
+colonpos
+hostname
+findchar
+colonpos
+nscautostring
+portstr
+hostandport
+colonpos
+hostname
+truncate
+colonpos
+print
+err
+port
+portstr
+tointeger
+err
+nsassertion
+err
+failed
+to
+get
+the
+port
+err
+port
+nscomptr
+nsimsgincomingserver
+server
+rv
+accountmanager
+createincomingserver
+nsnull
+hostname
+get
+nntp
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+port
+rv
+server
+setport
+port
+nsensuresuccess
+rv
+rv
+issecure
+nscomptr
+nsimsgprotocolinfo
+protocolinfo
+dogetservice
+messenger
+protocol
+info
+type
+nntp
+rv
+nsensuresuccess
+rv
+rv
+rv
+protocolinfo
+getdefaultserverport
+prtrue
+port
+nsensuresuccess
+rv
+rv
+rv
+server
+setport
+port
+nsensuresuccess
+rv
+rv
+rv
+server
+setissecure
+issecure
+nsensuresuccess
+rv
+rv
+ifdef
+debugmigrator
+print
+portvalue
+rv
+server
+getport
+portvalue
+printf
+hostname
+hostname
+get
+printf
+port
+portvalue
+endif
+malreadysetnntpdefaultlocalpath
+nscomptr
+nsifilespec
+nntprootdir
+rv
+nsnewfilespecwithspec
+newshostsdir
+getteraddrefs
+nntprootdir
+nsfailed
+rv
+rv
+rv
+server
+setdefaultlocalpath
+nntprootdir
+nsfailed
+rv
+rv
+nsfilespec
+newsrcfiledir
+newsrcfile
+getparent
+newsrcfiledir
+nsfailed
+rv
+rv
+nscomptr
+nsifilespec
+newsrcrootdir
+rv
+nsnewfilespecwithspec
+newsrcfiledir
+getteraddrefs
+newsrcrootdir
+nsfailed
+rv
+rv
+nscomptr
+nsinntpincomingserver
+nntpserver
+nntpserver
+doqueryinterface
+server
+rv
+nsfailed
+rv
+rv
+rv
+nntpserver
+setnewsrcrootpath
+newsrcrootdir
+nsfailed
+rv
+rv
+malreadysetnntpdefaultlocalpath
+prtrue
+ifdef
+debugmigrator
+printf
+migrate
+old
+nntp
+prefs
+endif
+rv
+migrateoldnntpprefs
+server
+hostandport
+newsrcfile
+nsfailed
+rv
+rv
+nscautostring
+alteredhost
+issecure
+alteredhost
+shost
+alteredhost
+host
+alteredhost
+hostandport
+nsmsghashifnecessary
+alteredhost
+thisnewshostsdir
+alteredhost
+get
+nscomptr
+nsifilespec
+newsdir
+prbool
+direxists
+rv
+nsnewfilespecwithspec
+thisnewshostsdir
+getteraddrefs
+newsdir
+nsfailed
+rv
+rv
+ifdef
+debugmigrator
+nsxpidlcstring
+nativepathstr
+rv
+newsdir
+getunixstylefilepath
+gettercopies
+nativepathstr
+nsfailed
+rv
+rv
+printf
+set
+the
+local
+path
+nntp
+server
+to
+nativepathstr
+endif
+rv
+server
+setlocalpath
+newsdir
+nsfailed
+rv
+rv
+rv
+newsdir
+exists
+direxists
+direxists
+newsdir
+createdir
+nscomptr
+nsimsgidentity
+copiedidentity
+rv
+accountmanager
+createidentity
+getteraddrefs
+copiedidentity
+nsfailed
+rv
+rv
+nscomptr
+nsimsgaccount
+account
+rv
+accountmanager
+createaccount
+getteraddrefs
+account
+nsfailed
+rv
+rv
+account
+setincomingserver
+server
+account
+addidentity
+copiedidentity
+rv
+copiedidentity
+copy
+identity
+nsfailed
+rv
+rv
+rv
+setnewscopiesandfolders
+copiedidentity
+nsfailed
+rv
+rv
+nsok
+nsresult
+nsmessengermigrator
+migrateoldnntpprefs
+nsimsgincomingserver
+server
+hostandport
+nsfilespec
+newsrcfile
+nsresult
+rv
+nscomptr
+nsinntpincomingserver
+nntpserver
+nntpserver
+doqueryinterface
+server
+rv
+nsfailed
+rv
+rv
+migratesimpleboolpref
+prefxnewsnotifyon
+nntpserver
+setnotifyon
+migratesimpleboolpref
+prefxnewsmarkoldread
+nntpserver
+setmarkoldread
+migratesimpleintpref
+prefxnewsmaxarticles
+nntpserver
+setmaxarticles
+nscomptr
+nsifilespec
+path
+rv
+nsnewfilespecwithspec
+newsrcfile
+getteraddrefs
+path
+nsfailed
+rv
+rv
+nntpserver
+setnewsrcfilepath
+path
+nsok
\ No newline at end of file
@@ -0,0 +1,507 @@
+prprf
+plstr
+prmem
+nsisupportsobsolete
+nsicomponentmanager
+nsiservicemanager
+nscomptr
+nsxpidlstring
+nsreadableutils
+nsipref
+nsmsgbasecid
+nsmsgaccount
+nsimsgaccount
+nsimsgfoldercache
+nsimsgaccountmanager
+nsimsgmailsession
+nsdefinecid
+kmsgidentitycid
+nsmsgidentitycid
+nsdefinecid
+kprefservicecid
+nsprefcid
+nsimplisupports
+nsmsgaccount
+nsimsgaccount
+nsmsgaccount
+nsmsgaccount
+mprefs
+mincomingserver
+nsnull
+mdefaultidentity
+nsnull
+nsmsgaccount
+nsmsgaccount
+mprefs
+nsservicemanager
+releaseservice
+kprefservicecid
+mprefs
+nsimethodimp
+nsmsgaccount
+init
+nsassertion
+midentities
+don
+call
+init
+twice
+midentities
+nserrorfailure
+createidentities
+nsresult
+nsmsgaccount
+getprefservice
+mprefs
+nsok
+nsservicemanager
+getservice
+kprefservicecid
+nsgetiid
+nsipref
+nsisupports
+mprefs
+nsimethodimp
+nsmsgaccount
+getincomingserver
+nsimsgincomingserver
+aincomingserver
+nsensureargpointer
+aincomingserver
+mincomingserver
+nsresult
+rv
+createincomingserver
+nsassertion
+nssucceeded
+rv
+couldn
+lazily
+create
+the
+server
+nsifaddref
+aincomingserver
+mincomingserver
+nsok
+nsresult
+nsmsgaccount
+createincomingserver
+maccountkey
+nserrornotinitialized
+nsresult
+rv
+getprefservice
+nsfailed
+rv
+rv
+nscautostring
+serverkeypref
+mail
+account
+serverkeypref
+maccountkey
+serverkeypref
+server
+nsxpidlcstring
+serverkey
+rv
+mprefs
+copycharpref
+serverkeypref
+get
+gettercopies
+serverkey
+nsfailed
+rv
+rv
+ifdef
+debugalecf
+printf
+server
+maccountkey
+serverkey
+endif
+nscautostring
+servertypepref
+mail
+server
+servertypepref
+append
+serverkey
+servertypepref
+type
+nsxpidlcstring
+servertype
+rv
+mprefs
+copycharpref
+servertypepref
+get
+gettercopies
+servertype
+nsfailed
+rv
+servertype
+adopt
+nscrt
+strdup
+generic
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+accountmanager
+getincomingserver
+serverkey
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+mincomingserver
+server
+accountmanager
+notifyserverloaded
+server
+nsok
+nsimethodimp
+nsmsgaccount
+setincomingserver
+nsimsgincomingserver
+aincomingserver
+nsresult
+rv
+nsxpidlcstring
+key
+rv
+aincomingserver
+getkey
+gettercopies
+key
+nssucceeded
+rv
+nscautostring
+serverprefname
+mail
+account
+serverprefname
+append
+maccountkey
+serverprefname
+append
+server
+mprefs
+setcharpref
+serverprefname
+get
+key
+mincomingserver
+aincomingserver
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nssucceeded
+rv
+accountmanager
+notifyserverloaded
+aincomingserver
+nsok
+nsimethodimp
+nsmsgaccount
+getidentities
+nsisupportsarray
+retval
+retval
+nserrornullpointer
+nsassertion
+midentities
+you
+never
+called
+init
+midentities
+nserrorfailure
+retval
+midentities
+nsaddref
+retval
+nsok
+nsresult
+nsmsgaccount
+createidentities
+nsassertion
+midentities
+only
+call
+createidentities
+once
+midentities
+nserrorfailure
+nsensuretrue
+maccountkey
+nserrornotinitialized
+nsnewisupportsarray
+getteraddrefs
+midentities
+nscautostring
+identitieskeypref
+mail
+account
+identitieskeypref
+append
+maccountkey
+identitieskeypref
+append
+identities
+nsxpidlcstring
+identitykey
+nsresult
+rv
+rv
+getprefservice
+nsfailed
+rv
+rv
+rv
+mprefs
+copycharpref
+identitieskeypref
+get
+gettercopies
+identitykey
+nsfailed
+rv
+rv
+ifdef
+debugalecf
+printf
+identities
+maccountkey
+identitykey
+endif
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsimsgidentity
+identity
+rv
+accountmanager
+getidentity
+identitykey
+getteraddrefs
+identity
+nsfailed
+rv
+rv
+rv
+addidentity
+identity
+rv
+nsimethodimp
+nsmsgaccount
+getdefaultidentity
+nsimsgidentity
+adefaultidentity
+adefaultidentity
+nserrornullpointer
+nsresult
+rv
+midentities
+rv
+init
+nsfailed
+rv
+rv
+nsisupports
+idsupports
+rv
+midentities
+getelementat
+idsupports
+nsfailed
+rv
+rv
+idsupports
+rv
+idsupports
+queryinterface
+nsgetiid
+nsimsgidentity
+adefaultidentity
+nsrelease
+idsupports
+rv
+nsimethodimp
+nsmsgaccount
+setdefaultidentity
+nsimsgidentity
+adefaultidentity
+nsassertion
+midentities
+you
+never
+called
+init
+midentities
+nserrorfailure
+nsassertion
+midentities
+indexof
+adefaultidentity
+where
+did
+that
+identity
+come
+from
+midentities
+indexof
+adefaultidentity
+nserrorunexpected
+mdefaultidentity
+adefaultidentity
+nsok
+nsimethodimp
+nsmsgaccount
+addidentity
+nsimsgidentity
+identity
+nsresult
+rv
+nsxpidlcstring
+key
+rv
+identity
+getkey
+gettercopies
+key
+nssucceeded
+rv
+nscautostring
+identitieskeypref
+mail
+account
+identitieskeypref
+append
+maccountkey
+identitieskeypref
+append
+identities
+mprefs
+setcharpref
+identitieskeypref
+get
+key
+nsassertion
+midentities
+you
+never
+called
+init
+midentities
+nserrorfailure
+midentities
+appendelement
+identity
+mdefaultidentity
+setdefaultidentity
+identity
+nsok
+nsimethodimp
+nsmsgaccount
+removeidentity
+nsimsgidentity
+identity
+nserrornotimplemented
+nsimplgetterstr
+nsmsgaccount
+getkey
+maccountkey
+nsresult
+nsmsgaccount
+setkey
+accountkey
+accountkey
+nserrornullpointer
+nsresult
+rv
+nsok
+rv
+getprefservice
+nsfailed
+rv
+rv
+gettercopies
+maccountkey
+plstrdup
+accountkey
+init
+nsimethodimp
+nsmsgaccount
+tostring
+prunichar
+aresult
+nsautostring
+val
+nsliteralstring
+nsimsgaccount
+val
+appendwithconversion
+maccountkey
+val
+append
+nsliteralstring
+aresult
+tonewunicode
+val
+nsok
+nsimethodimp
+nsmsgaccount
+clearallvalues
+nsresult
+rv
+nscautostring
+rootpref
+mail
+account
+rootpref
+maccountkey
+rv
+mprefs
+enumeratechildren
+rootpref
+get
+clearprefenum
+mprefs
+rv
+nsmsgaccount
+clearprefenum
+apref
+aclosure
+nsipref
+prefs
+nsipref
+aclosure
+prefs
+clearuserpref
+apref
\ No newline at end of file
@@ -0,0 +1,3671 @@
+nsicomponentmanager
+nsiservicemanager
+nsisupportsarray
+nsmsgaccountmanager
+nsmsgbasecid
+nsmsgcompcid
+prmem
+prcmon
+prthread
+plstr
+nsstring
+nsxpidlstring
+nsunicharutils
+nscore
+nscrt
+prprf
+nsimsgfoldercache
+nsfilestream
+nsmsgutils
+nsifilespec
+nsilocalfile
+nsiurl
+nsnetcid
+nsismtpservice
+nsimsgbiffmanager
+nsimsgpurgeservice
+nsiobserverservice
+nsimsgmailsession
+nsieventqueueservice
+nsidirectoryservice
+nsappdirectoryservicedefs
+nsmsgfolderflags
+nsirdfservice
+nsrdfcid
+nsiimapincomingserver
+nsiimapurl
+nsimessengerosintegration
+define
+prefmailaccountmanageraccounts
+mail
+accountmanager
+accounts
+define
+prefmailaccountmanagerdefaultaccount
+mail
+accountmanager
+defaultaccount
+define
+prefmailaccountmanagerlocalfoldersserver
+mail
+accountmanager
+localfoldersserver
+define
+prefmailserverprefix
+mail
+server
+define
+accountprefix
+account
+define
+serverprefix
+server
+define
+idprefix
+id
+define
+abouttogoofflinetopic
+network
+offline
+about
+to
+go
+offline
+define
+accountdelimiter
+define
+appendaccountsversionprefname
+appendpreconfigaccounts
+version
+define
+mailnewsrootpref
+mailnews
+define
+prefmailaccountmanagerappendaccounts
+mail
+accountmanager
+appendaccounts
+nsdefinecid
+kmsgaccountcid
+nsmsgaccountcid
+nsdefinecid
+kprefservicecid
+nsprefcid
+nsdefinecid
+kmsgbiffmanagercid
+nsmsgbiffmanagercid
+nsdefinecid
+kmsgfoldercachecid
+nsmsgfoldercachecid
+nsdefinecid
+keventqueueservicecid
+nseventqueueservicecid
+findserverentry
+hostname
+username
+type
+prbool
+userealsetting
+nsimsgincomingserver
+server
+findserverentry
+findserverbykeyentry
+key
+print
+index
+findserverbykeyentry
+findidentitiesbyserverentry
+nsisupportsarray
+identities
+nsimsgincomingserver
+server
+findidentitiesbyserverentry
+findserversbyidentityentry
+nsisupportsarray
+servers
+nsimsgidentity
+identity
+findserversbyidentityentry
+findaccountbykeyentry
+key
+nsimsgaccount
+account
+findaccountbykeyentry
+nsimplthreadsafeisupports
+nsmsgaccountmanager
+nsimsgaccountmanager
+nsiobserver
+nsisupportsweakreference
+nsiurllistener
+nsmsgaccountmanager
+nsmsgaccountmanager
+maccountsloaded
+prfalse
+mdefaultaccount
+nsnull
+memptytrashinprogress
+prfalse
+mcleanupinboxinprogress
+prfalse
+mhaveshutdown
+prfalse
+mshutdowninprogress
+prfalse
+mprefs
+nsmsgaccountmanager
+nsmsgaccountmanager
+nsresult
+rv
+mhaveshutdown
+shutdown
+nscomptr
+nsiobserverservice
+observerservice
+dogetservice
+observer
+service
+rv
+nssucceeded
+rv
+observerservice
+removeobserver
+nsxpcomshutdownobserverid
+observerservice
+removeobserver
+abouttogoofflinetopic
+nsresult
+nsmsgaccountmanager
+init
+nsresult
+rv
+rv
+nsnewisupportsarray
+getteraddrefs
+maccounts
+nsfailed
+rv
+rv
+rv
+nsnewisupportsarray
+getteraddrefs
+mfolderlisteners
+nscomptr
+nsiobserverservice
+observerservice
+dogetservice
+observer
+service
+rv
+nssucceeded
+rv
+observerservice
+addobserver
+nsxpcomshutdownobserverid
+prtrue
+observerservice
+addobserver
+quit
+application
+prtrue
+observerservice
+addobserver
+abouttogoofflinetopic
+prtrue
+observerservice
+addobserver
+session
+logout
+prtrue
+observerservice
+addobserver
+profile
+before
+change
+prtrue
+nsok
+nsresult
+nsmsgaccountmanager
+shutdown
+mhaveshutdown
+nsok
+nsresult
+rv
+mmsgfoldercache
+writetofoldercache
+mmsgfoldercache
+shutdownservers
+unloadaccounts
+nscomptr
+nsimsgbiffmanager
+biffservice
+dogetservice
+nsmsgbiffmanagercontractid
+rv
+nssucceeded
+rv
+biffservice
+biffservice
+shutdown
+nscomptr
+nsimsgpurgeservice
+purgeservice
+dogetservice
+nsmsgpurgeservicecontractid
+rv
+nssucceeded
+rv
+purgeservice
+purgeservice
+shutdown
+mprefs
+nsservicemanager
+releaseservice
+kprefservicecid
+mprefs
+mprefs
+mmsgfoldercache
+nsnull
+mhaveshutdown
+prtrue
+nsok
+nsimethodimp
+nsmsgaccountmanager
+getshutdowninprogress
+prbool
+retval
+nsensureargpointer
+retval
+retval
+mshutdowninprogress
+nsok
+nsimethodimp
+nsmsgaccountmanager
+observe
+nsisupports
+asubject
+atopic
+prunichar
+somedata
+nscrt
+strcmp
+atopic
+nsxpcomshutdownobserverid
+shutdown
+nsok
+nscrt
+strcmp
+atopic
+quit
+application
+mshutdowninprogress
+prtrue
+nsok
+nscrt
+strcmp
+atopic
+abouttogoofflinetopic
+nsautostring
+datastring
+nsliteralstring
+offline
+somedata
+nsautostring
+somedatastring
+somedata
+datastring
+somedatastring
+closecachedconnections
+nsok
+nscrt
+strcmp
+atopic
+session
+logout
+mincomingservers
+enumerate
+hashlogoutofserver
+nsnull
+nsok
+nscrt
+strcmp
+atopic
+profile
+before
+change
+shutdown
+nsok
+nsok
+nsresult
+nsmsgaccountmanager
+getprefservice
+nsresult
+rv
+nsok
+mprefs
+rv
+nsservicemanager
+getservice
+kprefservicecid
+nsgetiid
+nsipref
+nsisupports
+mprefs
+nsfailed
+rv
+rv
+nsok
+nsmsgaccountmanager
+getuniquekey
+prefix
+nshashtable
+hashtable
+nscstring
+aresult
+print
+prbool
+unique
+prfalse
+aresult
+prefix
+aresult
+appendint
+nscstringkey
+hashkey
+aresult
+hashelement
+hashtable
+get
+hashkey
+hashelement
+unique
+prtrue
+unique
+nsmsgaccountmanager
+getuniqueaccountkey
+prefix
+nsisupportsarray
+accounts
+nscstring
+aresult
+print
+prbool
+unique
+prfalse
+findaccountbykeyentry
+findentry
+findentry
+account
+nsnull
+aresult
+prefix
+aresult
+appendint
+findentry
+key
+aresult
+get
+accounts
+enumerateforwards
+findaccountbykey
+findentry
+findentry
+account
+unique
+prtrue
+findentry
+account
+nsnull
+unique
+nsresult
+nsmsgaccountmanager
+createidentity
+nsimsgidentity
+retval
+nsensureargpointer
+retval
+nsresult
+rv
+nscautostring
+key
+getuniquekey
+idprefix
+midentities
+key
+rv
+createkeyedidentity
+key
+get
+retval
+rv
+nsresult
+nsmsgaccountmanager
+getidentity
+key
+nsimsgidentity
+retval
+retval
+nserrornullpointer
+key
+key
+retval
+nsnull
+nsok
+nsresult
+rv
+nscstringkey
+hashkey
+key
+nsisupports
+idsupports
+nsisupports
+midentities
+get
+hashkey
+nscomptr
+nsimsgidentity
+identity
+doqueryinterface
+idsupports
+rv
+nssucceeded
+rv
+retval
+identity
+nsaddref
+retval
+nsok
+rv
+createkeyedidentity
+key
+retval
+rv
+nsresult
+nsmsgaccountmanager
+createkeyedidentity
+key
+nsimsgidentity
+aidentity
+nsresult
+rv
+nscomptr
+nsimsgidentity
+identity
+rv
+nscomponentmanager
+createinstance
+nsmsgidentitycontractid
+nsnull
+nsgetiid
+nsimsgidentity
+getteraddrefs
+identity
+nsfailed
+rv
+rv
+identity
+setkey
+nsconstcast
+key
+nscstringkey
+hashkey
+key
+nsisupports
+idsupports
+identity
+nsaddref
+idsupports
+midentities
+put
+hashkey
+idsupports
+aidentity
+identity
+nsaddref
+aidentity
+nsok
+nsresult
+nsmsgaccountmanager
+createincomingserver
+username
+hostname
+type
+nsimsgincomingserver
+retval
+nsensureargpointer
+retval
+nsresult
+rv
+loadaccounts
+nsfailed
+rv
+rv
+nscautostring
+key
+getuniquekey
+serverprefix
+mincomingservers
+key
+createkeyedserver
+key
+get
+username
+hostname
+type
+retval
+nsresult
+nsmsgaccountmanager
+getincomingserver
+key
+nsimsgincomingserver
+retval
+nsensureargpointer
+retval
+nsresult
+rv
+nsok
+nscstringkey
+hashkey
+key
+nscomptr
+nsimsgincomingserver
+server
+doqueryinterface
+nsisupports
+mincomingservers
+get
+hashkey
+rv
+nssucceeded
+rv
+retval
+server
+nsaddref
+retval
+nsok
+nscautostring
+serverprefprefix
+prefmailserverprefix
+serverprefprefix
+key
+nscautostring
+serverpref
+serverpref
+serverprefprefix
+serverpref
+type
+nsxpidlcstring
+servertype
+rv
+mprefs
+copycharpref
+serverpref
+get
+gettercopies
+servertype
+nsensuresuccess
+rv
+nserrornotinitialized
+serverpref
+serverprefprefix
+serverpref
+username
+nsxpidlcstring
+username
+rv
+mprefs
+copycharpref
+serverpref
+get
+gettercopies
+username
+serverpref
+serverprefprefix
+serverpref
+hostname
+nsxpidlcstring
+hostname
+rv
+mprefs
+copycharpref
+serverpref
+get
+gettercopies
+hostname
+nsensuresuccess
+rv
+nserrornotinitialized
+rv
+createkeyedserver
+key
+username
+hostname
+servertype
+retval
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsmsgaccountmanager
+createkeyedserver
+key
+username
+hostname
+type
+nsimsgincomingserver
+aserver
+nsresult
+rv
+nscautostring
+servercontractid
+nsmsgincomingservercontractidprefix
+servercontractid
+type
+nscomptr
+nsimsgincomingserver
+server
+docreateinstance
+servercontractid
+get
+rv
+nsensuresuccess
+rv
+rv
+server
+setkey
+key
+server
+settype
+type
+server
+setusername
+username
+server
+sethostname
+hostname
+nscstringkey
+hashkey
+key
+nsisupports
+serversupports
+server
+nsaddref
+serversupports
+mincomingservers
+put
+hashkey
+serversupports
+nscomptr
+nsifolder
+rootfolder
+rv
+server
+getrootfolder
+getteraddrefs
+rootfolder
+mfolderlisteners
+enumerateforwards
+addlistenertofolder
+nsifolder
+rootfolder
+aserver
+server
+nsaddref
+aserver
+nsok
+prbool
+nsmsgaccountmanager
+addlistenertofolder
+nsisupports
+element
+data
+nsresult
+rv
+nsifolder
+rootfolder
+nsifolder
+data
+nscomptr
+nsifolderlistener
+listener
+doqueryinterface
+element
+rv
+nsensuresuccess
+rv
+prtrue
+rootfolder
+addfolderlistener
+listener
+prtrue
+prbool
+nsmsgaccountmanager
+removelistenerfromfolder
+nsisupports
+element
+data
+nsresult
+rv
+nsifolder
+rootfolder
+nsifolder
+data
+nscomptr
+nsifolderlistener
+listener
+doqueryinterface
+element
+rv
+nsensuresuccess
+rv
+prtrue
+rootfolder
+removefolderlistener
+listener
+prtrue
+nsimethodimp
+nsmsgaccountmanager
+duplicateaccount
+nsimsgaccount
+aaccount
+nsensureargpointer
+aaccount
+nserrornotimplemented
+nsimethodimp
+nsmsgaccountmanager
+removeidentity
+nsimsgidentity
+aidentity
+nsok
+nsimethodimp
+nsmsgaccountmanager
+removeaccount
+nsimsgaccount
+aaccount
+nsensureargpointer
+aaccount
+nsresult
+rv
+rv
+loadaccounts
+nsfailed
+rv
+rv
+nsxpidlcstring
+key
+rv
+aaccount
+getkey
+gettercopies
+key
+nsfailed
+rv
+rv
+rv
+removekeyedaccount
+key
+nsfailed
+rv
+rv
+maccounts
+removeelement
+aaccount
+mdefaultaccount
+get
+aaccount
+setdefaultaccount
+nsnull
+nscomptr
+nsimsgincomingserver
+server
+rv
+aaccount
+getincomingserver
+getteraddrefs
+server
+nssucceeded
+rv
+server
+nsxpidlcstring
+serverkey
+rv
+server
+getkey
+gettercopies
+serverkey
+nsensuresuccess
+rv
+rv
+logoutofserver
+server
+mlastfindserverresult
+nsxpidlcstring
+cachedserverkey
+rv
+mlastfindserverresult
+getkey
+gettercopies
+cachedserverkey
+nsensuresuccess
+rv
+rv
+nscrt
+strcmp
+serverkey
+cachedserverkey
+rv
+setlastserverfound
+nsnull
+nsensuresuccess
+rv
+rv
+nscstringkey
+hashkey
+serverkey
+nsimsgincomingserver
+removedserver
+nsimsgincomingserver
+mincomingservers
+remove
+hashkey
+nsifrelease
+removedserver
+nscomptr
+nsifolder
+rootfolder
+server
+getrootfolder
+getteraddrefs
+rootfolder
+nscomptr
+nsisupportsarray
+alldescendents
+nsnewisupportsarray
+getteraddrefs
+alldescendents
+rootfolder
+listdescendents
+alldescendents
+pruint
+cnt
+rv
+alldescendents
+count
+cnt
+nsensuresuccess
+rv
+rv
+pruint
+cnt
+nscomptr
+nsimsgfolder
+folder
+doqueryelementat
+alldescendents
+rv
+folder
+forcedbclosed
+mfolderlisteners
+enumerateforwards
+removelistenerfromfolder
+rootfolder
+notifyserverunloaded
+server
+rv
+server
+removefiles
+nsassertion
+nssucceeded
+rv
+failed
+to
+remove
+the
+files
+associated
+with
+server
+server
+clearallvalues
+rootfolder
+shutdown
+prtrue
+nscomptr
+nsisupportsarray
+identityarray
+rv
+aaccount
+getidentities
+getteraddrefs
+identityarray
+nssucceeded
+rv
+pruint
+count
+identityarray
+count
+count
+pruint
+count
+nscomptr
+nsimsgidentity
+identity
+rv
+identityarray
+queryelementat
+nsgetiid
+nsimsgidentity
+getteraddrefs
+identity
+nssucceeded
+rv
+identity
+clearallvalues
+aaccount
+clearallvalues
+nsok
+nsresult
+nsmsgaccountmanager
+removekeyedaccount
+key
+nsresult
+rv
+rv
+getprefservice
+nsfailed
+rv
+rv
+nsxpidlcstring
+accountlist
+rv
+mprefs
+copycharpref
+prefmailaccountmanageraccounts
+gettercopies
+accountlist
+nsfailed
+rv
+rv
+nscautostring
+newaccountlist
+newstr
+rest
+nsconstcast
+accountlist
+token
+nscrt
+strtok
+rest
+newstr
+token
+nscautostring
+testkey
+token
+testkey
+stripwhitespace
+testkey
+isempty
+testkey
+equals
+key
+newaccountlist
+isempty
+newaccountlist
+newaccountlist
+testkey
+token
+nscrt
+strtok
+newstr
+newstr
+maccountkeylist
+newaccountlist
+rv
+mprefs
+setcharpref
+prefmailaccountmanageraccounts
+newaccountlist
+get
+nsfailed
+rv
+rv
+nsok
+nsimethodimp
+nsmsgaccountmanager
+getdefaultaccount
+nsimsgaccount
+adefaultaccount
+nsensureargpointer
+adefaultaccount
+nsresult
+rv
+rv
+loadaccounts
+nsfailed
+rv
+rv
+pruint
+count
+mdefaultaccount
+maccounts
+count
+count
+count
+adefaultaccount
+nsnull
+nserrorfailure
+nsxpidlcstring
+defaultkey
+rv
+mprefs
+copycharpref
+prefmailaccountmanagerdefaultaccount
+gettercopies
+defaultkey
+nssucceeded
+rv
+getaccount
+defaultkey
+getteraddrefs
+mdefaultaccount
+pruint
+index
+prbool
+foundvaliddefaultaccount
+prfalse
+index
+index
+count
+index
+nscomptr
+nsimsgaccount
+aaccount
+rv
+maccounts
+queryelementat
+index
+nsgetiid
+nsimsgaccount
+getteraddrefs
+aaccount
+nssucceeded
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+aaccount
+getincomingserver
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+prbool
+canbedefaultserver
+prfalse
+server
+server
+getcanbedefaultserver
+canbedefaultserver
+canbedefaultserver
+setdefaultaccount
+aaccount
+foundvaliddefaultaccount
+prtrue
+foundvaliddefaultaccount
+nscomptr
+nsimsgaccount
+firstaccount
+rv
+maccounts
+queryelementat
+nsgetiid
+nsimsgaccount
+getteraddrefs
+firstaccount
+setdefaultaccount
+firstaccount
+adefaultaccount
+mdefaultaccount
+nsifaddref
+adefaultaccount
+nsok
+nsimethodimp
+nsmsgaccountmanager
+setdefaultaccount
+nsimsgaccount
+adefaultaccount
+mdefaultaccount
+adefaultaccount
+nscomptr
+nsimsgaccount
+oldaccount
+mdefaultaccount
+mdefaultaccount
+adefaultaccount
+setdefaultaccountpref
+adefaultaccount
+notifydefaultserverchange
+oldaccount
+adefaultaccount
+nsok
+nsresult
+nsmsgaccountmanager
+notifydefaultserverchange
+nsimsgaccount
+aoldaccount
+nsimsgaccount
+anewaccount
+nsresult
+rv
+nscomptr
+nsimsgincomingserver
+server
+nscomptr
+nsifolder
+rootfolder
+aoldaccount
+rv
+aoldaccount
+getincomingserver
+getteraddrefs
+server
+nssucceeded
+rv
+server
+rv
+server
+getrootfolder
+getteraddrefs
+rootfolder
+nssucceeded
+rv
+rootfolder
+rootfolder
+notifyboolpropertychanged
+kdefaultserveratom
+prtrue
+prfalse
+anewaccount
+rv
+anewaccount
+getincomingserver
+getteraddrefs
+server
+nssucceeded
+rv
+server
+rv
+server
+getrootfolder
+getteraddrefs
+rootfolder
+nssucceeded
+rv
+rootfolder
+rootfolder
+notifyboolpropertychanged
+kdefaultserveratom
+prfalse
+prtrue
+aoldaccount
+anewaccount
+nscomptr
+nsiobserverservice
+observerservice
+dogetservice
+observer
+service
+rv
+nssucceeded
+rv
+observerservice
+notifyobservers
+nsnull
+maildefaultaccountchanged
+nsnull
+nsok
+nsresult
+nsmsgaccountmanager
+setdefaultaccountpref
+nsimsgaccount
+adefaultaccount
+nsresult
+rv
+rv
+getprefservice
+nsensuresuccess
+rv
+rv
+adefaultaccount
+nsxpidlcstring
+key
+rv
+adefaultaccount
+getkey
+gettercopies
+key
+nsensuresuccess
+rv
+rv
+rv
+mprefs
+setcharpref
+prefmailaccountmanagerdefaultaccount
+key
+nsensuresuccess
+rv
+rv
+mprefs
+clearuserpref
+prefmailaccountmanagerdefaultaccount
+nsok
+prbool
+nsmsgaccountmanager
+hashunloadserver
+nshashkey
+akey
+adata
+closure
+nsresult
+rv
+nscomptr
+nsimsgincomingserver
+server
+doqueryinterface
+nsisupports
+adata
+rv
+nsfailed
+rv
+prtrue
+nsmsgaccountmanager
+accountmanager
+nsmsgaccountmanager
+closure
+accountmanager
+notifyserverunloaded
+server
+nscomptr
+nsifolder
+rootfolder
+rv
+server
+getrootfolder
+getteraddrefs
+rootfolder
+accountmanager
+mfolderlisteners
+enumerateforwards
+removelistenerfromfolder
+nsifolder
+rootfolder
+nssucceeded
+rv
+rootfolder
+shutdown
+prtrue
+prtrue
+nsmsgaccountmanager
+logoutofserver
+nsimsgincomingserver
+aserver
+nsresult
+rv
+aserver
+shutdown
+nsassertion
+nssucceeded
+rv
+shutdown
+of
+server
+failed
+rv
+aserver
+forgetsessionpassword
+nsassertion
+nssucceeded
+rv
+failed
+to
+remove
+the
+password
+associated
+with
+server
+prbool
+nsmsgaccountmanager
+hashlogoutofserver
+nshashkey
+akey
+adata
+closure
+nsresult
+rv
+nscomptr
+nsimsgincomingserver
+server
+doqueryinterface
+nsisupports
+adata
+rv
+nssucceeded
+rv
+logoutofserver
+server
+prtrue
+nsresult
+nsmsgaccountmanager
+getfoldercache
+nsimsgfoldercache
+afoldercache
+afoldercache
+nserrornullpointer
+nsresult
+rv
+nsok
+mmsgfoldercache
+rv
+nscomponentmanager
+createinstance
+kmsgfoldercachecid
+nsgetiid
+nsimsgfoldercache
+getteraddrefs
+mmsgfoldercache
+nsfailed
+rv
+rv
+nscomptr
+nsifile
+cachefile
+nscomptr
+nsifilespec
+cachefilespec
+rv
+nsgetspecialdirectory
+nsappmessengerfoldercachedir
+getteraddrefs
+cachefile
+nsfailed
+rv
+rv
+rv
+nsnewfilespecfromifile
+cachefile
+getteraddrefs
+cachefilespec
+nsfailed
+rv
+rv
+mmsgfoldercache
+init
+cachefilespec
+afoldercache
+mmsgfoldercache
+nsifaddref
+afoldercache
+rv
+prbool
+nsmsgaccountmanager
+writefoldercache
+nshashkey
+akey
+adata
+closure
+nsimsgincomingserver
+server
+nsimsgincomingserver
+adata
+nsimsgfoldercache
+foldercache
+nsimsgfoldercache
+closure
+server
+writetofoldercache
+foldercache
+prtrue
+prbool
+prcallback
+nsmsgaccountmanager
+cleanuponexit
+nshashkey
+akey
+adata
+closure
+nsimsgincomingserver
+server
+nsimsgincomingserver
+adata
+prbool
+emptytrashonexit
+prfalse
+prbool
+cleanupinboxonexit
+prfalse
+nsresult
+rv
+weareoffline
+prtrue
+server
+getemptytrashonexit
+emptytrashonexit
+nscomptr
+nsiimapincomingserver
+imapserver
+doqueryinterface
+server
+imapserver
+imapserver
+getcleanupinboxonexit
+cleanupinboxonexit
+emptytrashonexit
+cleanupinboxonexit
+nscomptr
+nsifolder
+root
+server
+getrootfolder
+getteraddrefs
+root
+nsxpidlcstring
+type
+server
+gettype
+gettercopies
+type
+root
+nscomptr
+nsimsgfolder
+folder
+folder
+doqueryinterface
+root
+folder
+nsxpidlcstring
+passwd
+prbool
+serverrequirespasswordforauthentication
+prtrue
+prbool
+isimap
+type
+plstrcmp
+type
+imap
+prfalse
+isimap
+server
+getserverrequirespasswordforbiff
+serverrequirespasswordforauthentication
+server
+getpassword
+gettercopies
+passwd
+isimap
+isimap
+serverrequirespasswordforauthentication
+passwd
+strlen
+passwd
+nscomptr
+nsiurllistener
+urllistener
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsieventqueueservice
+peventqservice
+dogetservice
+keventqueueservicecid
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsieventqueue
+eventqueue
+peventqservice
+getthreadeventqueue
+nscurrentthread
+getteraddrefs
+eventqueue
+isimap
+urllistener
+doqueryinterface
+accountmanager
+rv
+isimap
+cleanupinboxonexit
+nscomptr
+nsienumerator
+aenumerator
+folder
+getsubfolders
+getteraddrefs
+aenumerator
+nscomptr
+nsisupports
+asupport
+rv
+aenumerator
+first
+nssucceeded
+rv
+rv
+aenumerator
+currentitem
+getteraddrefs
+asupport
+nscomptr
+nsimsgfolder
+inboxfolder
+doqueryinterface
+asupport
+pruint
+flags
+inboxfolder
+getflags
+flags
+flags
+msgfolderflaginbox
+rv
+inboxfolder
+compact
+urllistener
+nsnull
+nssucceeded
+rv
+accountmanager
+setfolderdoingcleanupinbox
+inboxfolder
+rv
+aenumerator
+next
+emptytrashonexit
+rv
+folder
+emptytrash
+nsnull
+urllistener
+isimap
+nssucceeded
+rv
+accountmanager
+setfolderdoingemptytrash
+folder
+isimap
+urllistener
+prbool
+inprogress
+prfalse
+cleanupinboxonexit
+accountmanager
+getcleanupinboxinprogress
+inprogress
+inprogress
+accountmanager
+getcleanupinboxinprogress
+inprogress
+prcentermonitor
+folder
+prcwait
+folder
+prmicrosecondstointerval
+ul
+prcexitmonitor
+folder
+eventqueue
+eventqueue
+processpendingevents
+emptytrashonexit
+accountmanager
+getemptytrashinprogress
+inprogress
+inprogress
+accountmanager
+getemptytrashinprogress
+inprogress
+prcentermonitor
+folder
+prcwait
+folder
+prmicrosecondstointerval
+ul
+prcexitmonitor
+folder
+eventqueue
+eventqueue
+processpendingevents
+prtrue
+prbool
+nsmsgaccountmanager
+closecachedconnections
+nshashkey
+akey
+adata
+closure
+nsimsgincomingserver
+server
+nsimsgincomingserver
+adata
+server
+closecachedconnections
+prtrue
+prbool
+nsmsgaccountmanager
+shutdown
+nshashkey
+akey
+adata
+closure
+nsimsgincomingserver
+server
+nsimsgincomingserver
+adata
+server
+shutdown
+prtrue
+nsimethodimp
+nsmsgaccountmanager
+getaccounts
+nsisupportsarray
+retval
+nsresult
+rv
+rv
+loadaccounts
+nsfailed
+rv
+rv
+nscomptr
+nsisupportsarray
+accounts
+nsnewisupportsarray
+getteraddrefs
+accounts
+accounts
+appendelements
+maccounts
+retval
+accounts
+nsaddref
+retval
+nsok
+prbool
+nsmsgaccountmanager
+hashelementtoarray
+nshashkey
+akey
+adata
+closure
+nsisupports
+element
+nsisupports
+adata
+nsisupportsarray
+array
+nsisupportsarray
+closure
+array
+appendelement
+element
+prtrue
+prbool
+nsmsgaccountmanager
+hashelementrelease
+nshashkey
+akey
+adata
+closure
+nsisupports
+element
+nsisupports
+adata
+nsrelease
+element
+prtrue
+nsimethodimp
+nsmsgaccountmanager
+getallidentities
+nsisupportsarray
+retval
+nsresult
+rv
+rv
+loadaccounts
+nsfailed
+rv
+rv
+nscomptr
+nsisupportsarray
+identities
+rv
+nsnewisupportsarray
+getteraddrefs
+identities
+nsfailed
+rv
+rv
+maccounts
+enumerateforwards
+getidentitiestoarray
+nsisupportsarray
+identities
+retval
+identities
+nsaddref
+retval
+rv
+prbool
+nsmsgaccountmanager
+addidentityifunique
+nsisupports
+element
+adata
+nsresult
+rv
+nscomptr
+nsimsgidentity
+identity
+doqueryinterface
+element
+rv
+nsfailed
+rv
+printf
+addidentityifunique
+problem
+prtrue
+nsisupportsarray
+array
+nsisupportsarray
+adata
+nsxpidlcstring
+key
+rv
+identity
+getkey
+gettercopies
+key
+nsfailed
+rv
+prtrue
+pruint
+count
+rv
+array
+count
+count
+nsfailed
+rv
+prtrue
+prbool
+found
+prfalse
+pruint
+count
+nscomptr
+nsisupports
+thiselement
+array
+getelementat
+getteraddrefs
+thiselement
+nscomptr
+nsimsgidentity
+thisidentity
+doqueryinterface
+thiselement
+rv
+nsfailed
+rv
+nsxpidlcstring
+thiskey
+thisidentity
+getkey
+gettercopies
+thiskey
+plstrcmp
+key
+thiskey
+found
+prtrue
+found
+array
+appendelement
+identity
+prtrue
+prbool
+nsmsgaccountmanager
+getidentitiestoarray
+nsisupports
+element
+adata
+nsresult
+rv
+nscomptr
+nsimsgaccount
+account
+doqueryinterface
+element
+rv
+nsfailed
+rv
+prtrue
+nscomptr
+nsisupportsarray
+identities
+rv
+account
+getidentities
+getteraddrefs
+identities
+nsfailed
+rv
+prtrue
+identities
+enumerateforwards
+addidentityifunique
+adata
+prtrue
+nsimethodimp
+nsmsgaccountmanager
+getallservers
+nsisupportsarray
+retval
+nsresult
+rv
+rv
+loadaccounts
+nsfailed
+rv
+rv
+nscomptr
+nsisupportsarray
+servers
+rv
+nsnewisupportsarray
+getteraddrefs
+servers
+nsfailed
+rv
+rv
+mincomingservers
+enumerate
+getserverstoarray
+nsisupportsarray
+servers
+retval
+servers
+nsaddref
+retval
+rv
+prbool
+prcallback
+nsmsgaccountmanager
+getserverstoarray
+nshashkey
+akey
+element
+adata
+nsresult
+rv
+nscomptr
+nsimsgincomingserver
+server
+doqueryinterface
+nsisupports
+element
+rv
+nsfailed
+rv
+prtrue
+nsisupportsarray
+array
+nsisupportsarray
+adata
+nscomptr
+nsisupports
+serversupports
+doqueryinterface
+server
+nssucceeded
+rv
+array
+appendelement
+serversupports
+prtrue
+nsresult
+nsmsgaccountmanager
+loadaccounts
+nsresult
+rv
+maccountsloaded
+nsok
+kdefaultserveratom
+dogetatom
+defaultserver
+nscomptr
+nsimsgbiffmanager
+biffservice
+dogetservice
+nsmsgbiffmanagercontractid
+rv
+nssucceeded
+rv
+biffservice
+init
+nscomptr
+nsimsgpurgeservice
+purgeservice
+dogetservice
+nsmsgpurgeservicecontractid
+rv
+nssucceeded
+rv
+purgeservice
+init
+nscomptr
+nsimessengerosintegration
+integrationservice
+dogetservice
+nsmessengerosintegrationcontractid
+rv
+nsxpidlcstring
+accountlist
+rv
+getprefservice
+nssucceeded
+rv
+rv
+mprefs
+copycharpref
+prefmailaccountmanageraccounts
+gettercopies
+accountlist
+nscomptr
+nsiprefbranch
+defaultsprefbranch
+rv
+mprefs
+getdefaultbranch
+mailnewsrootpref
+getteraddrefs
+defaultsprefbranch
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+rv
+mprefs
+getbranch
+mailnewsrootpref
+getteraddrefs
+prefbranch
+nsensuresuccess
+rv
+rv
+print
+appendaccountscurrentversion
+print
+appendaccountsdefaultversion
+rv
+prefbranch
+getintpref
+appendaccountsversionprefname
+appendaccountscurrentversion
+nsensuresuccess
+rv
+rv
+rv
+defaultsprefbranch
+getintpref
+appendaccountsversionprefname
+appendaccountsdefaultversion
+nsensuresuccess
+rv
+rv
+appendaccountscurrentversion
+appendaccountsdefaultversion
+nsxpidlcstring
+appendaccountlist
+rv
+mprefs
+copycharpref
+prefmailaccountmanagerappendaccounts
+gettercopies
+appendaccountlist
+appendaccountlist
+isempty
+accountlist
+isempty
+nscstringarray
+existingaccountsarray
+existingaccountsarray
+parsestring
+accountlist
+get
+accountdelimiter
+newaccountstr
+preconfigaccountsstr
+tonewcstring
+appendaccountlist
+token
+nscrt
+strtok
+preconfigaccountsstr
+accountdelimiter
+newaccountstr
+nscautostring
+newaccount
+token
+token
+token
+newaccount
+assign
+token
+newaccount
+stripwhitespace
+existingaccountsarray
+indexof
+newaccount
+accountlist
+accountlist
+newaccount
+token
+nscrt
+strtok
+newaccountstr
+accountdelimiter
+newaccountstr
+prfree
+preconfigaccountsstr
+accountlist
+appendaccountlist
+rv
+prefbranch
+setintpref
+appendaccountsversionprefname
+appendaccountscurrentversion
+maccountsloaded
+prtrue
+mhaveshutdown
+prfalse
+accountlist
+accountlist
+nsok
+nscomptr
+nsimsgaccount
+account
+newstr
+rest
+nsconstcast
+accountlist
+nscautostring
+str
+token
+nscrt
+strtok
+rest
+newstr
+token
+str
+token
+str
+stripwhitespace
+str
+isempty
+rv
+getaccount
+str
+get
+getteraddrefs
+account
+nscomptr
+nsisupportsarray
+identities
+account
+getidentities
+getteraddrefs
+identities
+nscomptr
+nsimsgincomingserver
+server
+account
+getincomingserver
+getteraddrefs
+server
+token
+nscrt
+strtok
+newstr
+newstr
+nsok
+prbool
+nsmsgaccountmanager
+getaccountlist
+nsisupports
+element
+adata
+nsresult
+rv
+nscautostring
+accountlist
+nscautostring
+adata
+nscomptr
+nsimsgaccount
+account
+doqueryinterface
+element
+rv
+nsfailed
+rv
+prtrue
+nsxpidlcstring
+key
+rv
+account
+getkey
+gettercopies
+key
+nsfailed
+rv
+prtrue
+accountlist
+isempty
+accountlist
+append
+key
+accountlist
+accountlist
+append
+key
+prtrue
+nsimethodimp
+nsmsgaccountmanager
+setspecialfolders
+nsresult
+rv
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+rdf
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupportsarray
+identities
+getallidentities
+getteraddrefs
+identities
+pruint
+idcount
+identities
+count
+idcount
+pruint
+id
+nsxpidlcstring
+identitykey
+id
+id
+idcount
+id
+nscomptr
+nsisupports
+thissupports
+rv
+identities
+getelementat
+id
+getteraddrefs
+thissupports
+nsfailed
+rv
+nscomptr
+nsimsgidentity
+thisidentity
+doqueryinterface
+thissupports
+rv
+nssucceeded
+rv
+thisidentity
+nsxpidlcstring
+folderuri
+nscomptr
+nsirdfresource
+res
+nscomptr
+nsimsgfolder
+folder
+thisidentity
+getfccfolder
+gettercopies
+folderuri
+folderuri
+nssucceeded
+rdf
+getresource
+folderuri
+getteraddrefs
+res
+folder
+doqueryinterface
+res
+rv
+nscomptr
+nsifolder
+parent
+folder
+nssucceeded
+rv
+rv
+folder
+getparent
+getteraddrefs
+parent
+nssucceeded
+rv
+parent
+rv
+folder
+setflag
+msgfolderflagsentmail
+thisidentity
+getdraftfolder
+gettercopies
+folderuri
+folderuri
+nssucceeded
+rdf
+getresource
+folderuri
+getteraddrefs
+res
+folder
+doqueryinterface
+res
+rv
+nssucceeded
+rv
+rv
+folder
+setflag
+msgfolderflagdrafts
+thisidentity
+getstationeryfolder
+gettercopies
+folderuri
+folderuri
+nssucceeded
+rdf
+getresource
+folderuri
+getteraddrefs
+res
+folder
+doqueryinterface
+res
+rv
+folder
+nssucceeded
+rv
+nscomptr
+nsifolder
+parent
+rv
+folder
+getparent
+getteraddrefs
+parent
+nssucceeded
+rv
+parent
+rv
+folder
+setflag
+msgfolderflagtemplates
+nsok
+nsimethodimp
+nsmsgaccountmanager
+unloadaccounts
+kdefaultserveratom
+nsnull
+mdefaultaccount
+nsnull
+mincomingservers
+enumerate
+hashunloadserver
+maccounts
+clear
+midentities
+reset
+hashelementrelease
+nsnull
+mincomingservers
+reset
+hashelementrelease
+nsnull
+maccountsloaded
+prfalse
+maccountkeylist
+truncate
+setlastserverfound
+nsnull
+nsok
+nsimethodimp
+nsmsgaccountmanager
+shutdownservers
+mincomingservers
+enumerate
+shutdown
+nsnull
+nsok
+nsimethodimp
+nsmsgaccountmanager
+closecachedconnections
+mincomingservers
+enumerate
+closecachedconnections
+nsnull
+nsok
+nsimethodimp
+nsmsgaccountmanager
+cleanuponexit
+mincomingservers
+enumerate
+cleanuponexit
+nsnull
+nsok
+nsimethodimp
+nsmsgaccountmanager
+writetofoldercache
+nsimsgfoldercache
+foldercache
+mincomingservers
+enumerate
+writefoldercache
+foldercache
+foldercache
+close
+nsresult
+nsmsgaccountmanager
+createkeyedaccount
+key
+nsimsgaccount
+aaccount
+nscomptr
+nsimsgaccount
+account
+nsresult
+rv
+rv
+nscomponentmanager
+createinstance
+kmsgaccountcid
+nsnull
+nsgetiid
+nsimsgaccount
+getteraddrefs
+account
+nsfailed
+rv
+rv
+account
+setkey
+nsconstcast
+key
+maccounts
+appendelement
+nsstaticcast
+nsisupports
+account
+maccountkeylist
+isempty
+maccountkeylist
+key
+maccountkeylist
+maccountkeylist
+key
+rv
+getprefservice
+nssucceeded
+rv
+mprefs
+setcharpref
+prefmailaccountmanageraccounts
+maccountkeylist
+get
+aaccount
+account
+nsaddref
+aaccount
+nsok
+nsresult
+nsmsgaccountmanager
+createaccount
+nsimsgaccount
+retval
+nsensureargpointer
+retval
+nscautostring
+key
+getuniqueaccountkey
+accountprefix
+maccounts
+key
+createkeyedaccount
+key
+get
+retval
+nsresult
+nsmsgaccountmanager
+getaccount
+key
+nsimsgaccount
+retval
+retval
+nserrornullpointer
+findaccountbykeyentry
+findentry
+findentry
+key
+key
+findentry
+account
+nsnull
+maccounts
+enumerateforwards
+findaccountbykey
+findentry
+findentry
+account
+retval
+findentry
+account
+nsaddref
+retval
+nsok
+createkeyedaccount
+key
+retval
+nsresult
+nsmsgaccountmanager
+findserverindex
+nsimsgincomingserver
+server
+print
+result
+nsensureargpointer
+server
+nsresult
+rv
+nsxpidlcstring
+key
+rv
+server
+getkey
+gettercopies
+key
+findserverbykeyentry
+findentry
+findentry
+key
+key
+findentry
+index
+maccounts
+enumerateforwards
+findserverindexbyserver
+findentry
+result
+findentry
+index
+nsok
+prbool
+nsmsgaccountmanager
+findserverindexbyserver
+nsisupports
+element
+adata
+nsresult
+rv
+nscomptr
+nsimsgaccount
+account
+doqueryinterface
+element
+findserverbykeyentry
+entry
+findserverbykeyentry
+adata
+entry
+index
+nscomptr
+nsimsgincomingserver
+server
+rv
+account
+getincomingserver
+getteraddrefs
+server
+server
+nsfailed
+rv
+prtrue
+nsxpidlcstring
+key
+rv
+server
+getkey
+gettercopies
+key
+nsfailed
+rv
+prtrue
+nscrt
+strcmp
+key
+entry
+key
+prfalse
+prtrue
+prbool
+nsmsgaccountmanager
+findaccountbykey
+nsisupports
+element
+adata
+nsresult
+rv
+nscomptr
+nsimsgaccount
+account
+doqueryinterface
+element
+rv
+nsfailed
+rv
+prtrue
+findaccountbykeyentry
+entry
+findaccountbykeyentry
+adata
+nsxpidlcstring
+key
+account
+getkey
+gettercopies
+key
+plstrcmp
+key
+entry
+key
+entry
+account
+account
+prfalse
+prtrue
+nsimethodimp
+nsmsgaccountmanager
+addincomingserverlistener
+nsiincomingserverlistener
+serverlistener
+mincomingserverlisteners
+appendobject
+serverlistener
+nsok
+nsimethodimp
+nsmsgaccountmanager
+removeincomingserverlistener
+nsiincomingserverlistener
+serverlistener
+mincomingserverlisteners
+removeobject
+serverlistener
+nsok
+nsimethodimp
+nsmsgaccountmanager
+notifyserverloaded
+nsimsgincomingserver
+server
+print
+count
+mincomingserverlisteners
+count
+print
+count
+nsiincomingserverlistener
+listener
+mincomingserverlisteners
+listener
+onserverloaded
+server
+nsok
+nsimethodimp
+nsmsgaccountmanager
+notifyserverunloaded
+nsimsgincomingserver
+server
+print
+count
+mincomingserverlisteners
+count
+server
+setfilterlist
+nsnull
+print
+count
+nsiincomingserverlistener
+listener
+mincomingserverlisteners
+listener
+onserverunloaded
+server
+nsok
+nsimethodimp
+nsmsgaccountmanager
+notifyserverchanged
+nsimsgincomingserver
+server
+print
+count
+mincomingserverlisteners
+count
+print
+count
+nsiincomingserverlistener
+listener
+mincomingserverlisteners
+listener
+onserverchanged
+server
+nsok
+nsresult
+nsmsgaccountmanager
+internalfindserver
+username
+hostname
+type
+prbool
+userealsetting
+nsimsgincomingserver
+aresult
+nsresult
+rv
+nscomptr
+nsisupportsarray
+servers
+userealsetting
+nscrt
+strcmp
+hostname
+hostname
+mlastfindserverhostname
+get
+nscrt
+strcmp
+username
+username
+mlastfindserverusername
+get
+nscrt
+strcmp
+type
+type
+mlastfindservertype
+get
+mlastfindserverresult
+nsaddref
+aresult
+mlastfindserverresult
+nsok
+rv
+getallservers
+getteraddrefs
+servers
+nsfailed
+rv
+rv
+findserverentry
+serverinfo
+serverinfo
+hostname
+hostname
+hostname
+serverinfo
+username
+username
+username
+serverinfo
+type
+type
+type
+serverinfo
+userealsetting
+userealsetting
+serverinfo
+server
+aresult
+nsnull
+servers
+enumerateforwards
+findserver
+serverinfo
+serverinfo
+server
+nserrorunexpected
+rv
+setlastserverfound
+serverinfo
+server
+hostname
+username
+type
+nsensuresuccess
+rv
+rv
+aresult
+serverinfo
+server
+nsaddref
+aresult
+nsok
+nsimethodimp
+nsmsgaccountmanager
+findserver
+username
+hostname
+type
+nsimsgincomingserver
+aresult
+internalfindserver
+username
+hostname
+type
+prfalse
+aresult
+nsimethodimp
+nsmsgaccountmanager
+findrealserver
+username
+hostname
+type
+nsimsgincomingserver
+aresult
+internalfindserver
+username
+hostname
+type
+prtrue
+aresult
+nsok
+prbool
+nsmsgaccountmanager
+findaccountbyserverkey
+nsisupports
+element
+adata
+nsresult
+rv
+findaccountbykeyentry
+entry
+findaccountbykeyentry
+adata
+nscomptr
+nsimsgaccount
+account
+doqueryinterface
+element
+rv
+nsfailed
+rv
+prtrue
+nscomptr
+nsimsgincomingserver
+server
+rv
+account
+getincomingserver
+getteraddrefs
+server
+server
+nsfailed
+rv
+prtrue
+nsxpidlcstring
+key
+rv
+server
+getkey
+gettercopies
+key
+nsfailed
+rv
+prtrue
+plstrcmp
+key
+entry
+key
+entry
+account
+account
+prfalse
+prtrue
+nsimethodimp
+nsmsgaccountmanager
+findaccountforserver
+nsimsgincomingserver
+server
+nsimsgaccount
+aresult
+nsensureargpointer
+aresult
+server
+aresult
+nsnull
+nsok
+nsresult
+rv
+nsxpidlcstring
+key
+rv
+server
+getkey
+gettercopies
+key
+nsfailed
+rv
+rv
+findaccountbykeyentry
+entry
+entry
+key
+key
+entry
+account
+nsnull
+maccounts
+enumerateforwards
+findaccountbyserverkey
+entry
+entry
+account
+aresult
+entry
+account
+nsaddref
+aresult
+nsok
+prbool
+nsmsgaccountmanager
+findserver
+nsisupports
+aelement
+data
+nsresult
+rv
+nscomptr
+nsimsgincomingserver
+server
+doqueryinterface
+aelement
+rv
+nsfailed
+rv
+prtrue
+findserverentry
+entry
+findserverentry
+data
+nsxpidlcstring
+thishostname
+entry
+userealsetting
+rv
+server
+getrealhostname
+gettercopies
+thishostname
+rv
+server
+gethostname
+gettercopies
+thishostname
+nsfailed
+rv
+prtrue
+nsxpidlcstring
+thisusername
+entry
+userealsetting
+rv
+server
+getrealusername
+gettercopies
+thisusername
+rv
+server
+getusername
+gettercopies
+thisusername
+nsfailed
+rv
+prtrue
+nsxpidlcstring
+thistype
+rv
+server
+gettype
+gettercopies
+thistype
+nsfailed
+rv
+prtrue
+prbool
+checktype
+plstrcmp
+entry
+type
+prbool
+checkhostname
+plstrcmp
+entry
+hostname
+prbool
+checkusername
+plstrcmp
+entry
+username
+checktype
+plstrcmp
+entry
+type
+thistype
+checkhostname
+plstrcasecmp
+entry
+hostname
+thishostname
+checkusername
+plstrcmp
+entry
+username
+thisusername
+entry
+server
+server
+prfalse
+prtrue
+nsimethodimp
+nsmsgaccountmanager
+getfirstidentityforserver
+nsimsgincomingserver
+aserver
+nsimsgidentity
+aidentity
+nsensureargpointer
+aserver
+nsensureargpointer
+aidentity
+nscomptr
+nsisupportsarray
+identities
+nsresult
+rv
+getidentitiesforserver
+aserver
+getteraddrefs
+identities
+nsensuresuccess
+rv
+rv
+pruint
+numidentities
+rv
+identities
+count
+numidentities
+nsensuresuccess
+rv
+rv
+numidentities
+nscomptr
+nsimsgidentity
+identity
+rv
+identities
+queryelementat
+nsgetiid
+nsimsgidentity
+getteraddrefs
+identity
+nsensuresuccess
+rv
+rv
+nsifaddref
+aidentity
+identity
+aidentity
+nsnull
+rv
+nsimethodimp
+nsmsgaccountmanager
+getidentitiesforserver
+nsimsgincomingserver
+server
+nsisupportsarray
+retval
+nsensureargpointer
+server
+nsensureargpointer
+retval
+nsresult
+rv
+rv
+loadaccounts
+nsfailed
+rv
+rv
+nscomptr
+nsisupportsarray
+identities
+rv
+nsnewisupportsarray
+getteraddrefs
+identities
+nsfailed
+rv
+rv
+findidentitiesbyserverentry
+identityinfo
+identityinfo
+server
+server
+identityinfo
+identities
+identities
+maccounts
+enumerateforwards
+findidentitiesforserver
+identityinfo
+retval
+identities
+nsaddref
+retval
+nsok
+prbool
+nsmsgaccountmanager
+findidentitiesforserver
+nsisupports
+element
+adata
+nsresult
+rv
+nscomptr
+nsimsgaccount
+account
+doqueryinterface
+element
+rv
+nsfailed
+rv
+prtrue
+findidentitiesbyserverentry
+entry
+findidentitiesbyserverentry
+adata
+nscomptr
+nsimsgincomingserver
+thisserver
+rv
+account
+getincomingserver
+getteraddrefs
+thisserver
+nsfailed
+rv
+prtrue
+nsxpidlcstring
+serverkey
+nsassertion
+thisserver
+thisserver
+is
+nsassertion
+entry
+entry
+is
+nsassertion
+entry
+server
+entry
+server
+is
+thisserver
+entry
+entry
+server
+prtrue
+entry
+server
+getkey
+gettercopies
+serverkey
+nsxpidlcstring
+thisserverkey
+thisserver
+getkey
+gettercopies
+thisserverkey
+plstrcmp
+serverkey
+thisserverkey
+nscomptr
+nsisupportsarray
+theseidentities
+rv
+account
+getidentities
+getteraddrefs
+theseidentities
+nssucceeded
+rv
+rv
+entry
+identities
+appendelements
+theseidentities
+prtrue
+nsimethodimp
+nsmsgaccountmanager
+getserversforidentity
+nsimsgidentity
+identity
+nsisupportsarray
+retval
+nsresult
+rv
+rv
+loadaccounts
+nsfailed
+rv
+rv
+nscomptr
+nsisupportsarray
+servers
+rv
+nsnewisupportsarray
+getteraddrefs
+servers
+nsfailed
+rv
+rv
+findserversbyidentityentry
+serverinfo
+serverinfo
+identity
+identity
+serverinfo
+servers
+servers
+maccounts
+enumerateforwards
+findserversforidentity
+serverinfo
+retval
+servers
+nsaddref
+retval
+nsok
+prbool
+nsmsgaccountmanager
+findserversforidentity
+nsisupports
+element
+adata
+nsresult
+rv
+nscomptr
+nsimsgaccount
+account
+doqueryinterface
+element
+rv
+nsfailed
+rv
+prtrue
+findserversbyidentityentry
+entry
+findserversbyidentityentry
+adata
+nscomptr
+nsisupportsarray
+identities
+account
+getidentities
+getteraddrefs
+identities
+pruint
+idcount
+identities
+count
+idcount
+pruint
+id
+nsxpidlcstring
+identitykey
+rv
+entry
+identity
+getkey
+gettercopies
+identitykey
+id
+id
+idcount
+id
+nscomptr
+nsisupports
+thissupports
+rv
+identities
+getelementat
+id
+getteraddrefs
+thissupports
+nsfailed
+rv
+nscomptr
+nsimsgidentity
+thisidentity
+doqueryinterface
+thissupports
+rv
+nssucceeded
+rv
+nsxpidlcstring
+thisidentitykey
+rv
+thisidentity
+getkey
+gettercopies
+thisidentitykey
+nssucceeded
+rv
+plstrcmp
+identitykey
+thisidentitykey
+nscomptr
+nsimsgincomingserver
+thisserver
+rv
+account
+getincomingserver
+getteraddrefs
+thisserver
+thisserver
+nssucceeded
+rv
+entry
+servers
+appendelement
+thisserver
+prtrue
+nsresult
+nsmsgaccountmanager
+addrootfolderlistener
+nsifolderlistener
+alistener
+nsresult
+rv
+nsensuretrue
+alistener
+nsok
+rv
+mfolderlisteners
+appendelement
+alistener
+mincomingservers
+enumerate
+addlistener
+alistener
+nsok
+nsresult
+nsmsgaccountmanager
+removerootfolderlistener
+nsifolderlistener
+alistener
+nsresult
+rv
+nsensuretrue
+alistener
+nsok
+rv
+mfolderlisteners
+removeelement
+alistener
+mincomingservers
+enumerate
+removelistener
+alistener
+nsok
+prbool
+nsmsgaccountmanager
+addlistener
+nshashkey
+akey
+element
+adata
+nsimsgincomingserver
+server
+nsimsgincomingserver
+element
+nsifolderlistener
+listener
+nsifolderlistener
+adata
+nsresult
+rv
+nscomptr
+nsifolder
+rootfolder
+rv
+server
+getrootfolder
+getteraddrefs
+rootfolder
+nsensuresuccess
+rv
+prtrue
+rv
+rootfolder
+addfolderlistener
+listener
+nsensuresuccess
+rv
+prtrue
+prtrue
+prbool
+nsmsgaccountmanager
+removelistener
+nshashkey
+akey
+element
+adata
+nsimsgincomingserver
+server
+nsimsgincomingserver
+element
+nsifolderlistener
+listener
+nsifolderlistener
+adata
+nsresult
+rv
+nscomptr
+nsifolder
+rootfolder
+rv
+server
+getrootfolder
+getteraddrefs
+rootfolder
+nsensuresuccess
+rv
+prtrue
+rv
+rootfolder
+removefolderlistener
+listener
+nsensuresuccess
+rv
+prtrue
+prtrue
+nsimethodimp
+nsmsgaccountmanager
+setlocalfoldersserver
+nsimsgincomingserver
+aserver
+nsresult
+rv
+aserver
+nserrornullpointer
+nsxpidlcstring
+key
+rv
+aserver
+getkey
+gettercopies
+key
+nsfailed
+rv
+rv
+rv
+mprefs
+setcharpref
+prefmailaccountmanagerlocalfoldersserver
+key
+rv
+nsimethodimp
+nsmsgaccountmanager
+getlocalfoldersserver
+nsimsgincomingserver
+aserver
+nsxpidlcstring
+serverkey
+nsresult
+rv
+aserver
+nserrornullpointer
+mprefs
+rv
+getprefservice
+nsensuresuccess
+rv
+rv
+rv
+mprefs
+copycharpref
+prefmailaccountmanagerlocalfoldersserver
+gettercopies
+serverkey
+nssucceeded
+rv
+serverkey
+rv
+getincomingserver
+serverkey
+aserver
+aserver
+nserrorfailure
+rv
+rv
+findserver
+nobody
+local
+folders
+none
+aserver
+nsfailed
+rv
+aserver
+rv
+findserver
+nobody
+nsnull
+none
+aserver
+nsfailed
+rv
+aserver
+rv
+findserver
+nsnull
+local
+folders
+none
+aserver
+nsfailed
+rv
+aserver
+rv
+findserver
+nsnull
+nsnull
+none
+aserver
+nsfailed
+rv
+rv
+aserver
+nserrorfailure
+rv
+setlocalfoldersserver
+aserver
+rv
+nsimethodimp
+nsmsgaccountmanager
+onstartrunningurl
+nsiuri
+aurl
+nsok
+nsimethodimp
+nsmsgaccountmanager
+onstoprunningurl
+nsiuri
+aurl
+nsresult
+aexitcode
+aurl
+nscomptr
+nsiimapurl
+imapurl
+doqueryinterface
+aurl
+imapurl
+nsimapaction
+imapaction
+nsiimapurl
+nsimaptest
+imapurl
+getimapaction
+imapaction
+imapaction
+nsiimapurl
+nsimapexpungefolder
+mfolderdoingcleanupinbox
+prcentermonitor
+mfolderdoingcleanupinbox
+prcnotifyall
+mfolderdoingcleanupinbox
+mcleanupinboxinprogress
+prfalse
+prcexitmonitor
+mfolderdoingcleanupinbox
+mfolderdoingcleanupinbox
+nsnull
+nsiimapurl
+nsimapdeleteallmsgs
+mfolderdoingemptytrash
+prcentermonitor
+mfolderdoingemptytrash
+prcnotifyall
+mfolderdoingemptytrash
+memptytrashinprogress
+prfalse
+prcexitmonitor
+mfolderdoingemptytrash
+mfolderdoingemptytrash
+nsnull
+nsok
+nsimethodimp
+nsmsgaccountmanager
+setfolderdoingemptytrash
+nsimsgfolder
+folder
+mfolderdoingemptytrash
+folder
+memptytrashinprogress
+prtrue
+nsok
+nsimethodimp
+nsmsgaccountmanager
+getemptytrashinprogress
+prbool
+bval
+nsensureargpointer
+bval
+bval
+memptytrashinprogress
+nsok
+nsimethodimp
+nsmsgaccountmanager
+setfolderdoingcleanupinbox
+nsimsgfolder
+folder
+mfolderdoingcleanupinbox
+folder
+mcleanupinboxinprogress
+prtrue
+nsok
+nsimethodimp
+nsmsgaccountmanager
+getcleanupinboxinprogress
+prbool
+bval
+nsensureargpointer
+bval
+bval
+mcleanupinboxinprogress
+nsok
+nsresult
+nsmsgaccountmanager
+setlastserverfound
+nsimsgincomingserver
+server
+hostname
+username
+type
+mlastfindserverresult
+server
+mlastfindserverhostname
+hostname
+mlastfindserverusername
+username
+mlastfindservertype
+type
+nsok
+nsimethodimp
+nsmsgaccountmanager
+saveaccountinfo
+nsresult
+rv
+rv
+getprefservice
+nsensuresuccess
+rv
+rv
+mprefs
+savepreffile
+nsnull
\ No newline at end of file
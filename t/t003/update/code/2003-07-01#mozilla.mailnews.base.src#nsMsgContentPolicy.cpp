@@ -0,0 +1,88 @@
+nsmsgcontentpolicy
+nsiscriptglobalobject
+nsidocshell
+nscomptr
+nsidomwindow
+nsiuri
+nsmsgcontentpolicy
+nsmsgcontentpolicy
+nsmsgcontentpolicy
+nsmsgcontentpolicy
+nsimplisupports
+nsmsgcontentpolicy
+nsicontentpolicy
+nsimethodimp
+nsmsgcontentpolicy
+shouldload
+print
+acontenttype
+nsiuri
+acontentlocation
+nsisupports
+acontext
+nsidomwindow
+awindow
+prbool
+shouldload
+nsresult
+rv
+nsok
+shouldload
+prtrue
+acontentlocation
+acontext
+rv
+acontenttype
+nsicontentpolicy
+object
+acontenttype
+nsicontentpolicy
+image
+prbool
+isftp
+prfalse
+rv
+acontentlocation
+schemeis
+ftp
+isftp
+isftp
+shouldload
+prfalse
+prbool
+needtocheck
+prfalse
+rv
+acontentlocation
+schemeis
+needtocheck
+nsensuresuccess
+rv
+rv
+needtocheck
+rv
+acontentlocation
+schemeis
+https
+needtocheck
+nsensuresuccess
+rv
+rv
+needtocheck
+shouldload
+prfalse
+rv
+nsimethodimp
+nsmsgcontentpolicy
+shouldprocess
+print
+contenttype
+nsiuri
+contentlocation
+nsisupports
+context
+nsidomwindow
+window
+prbool
+shouldprocess
+nserrornotimplemented
\ No newline at end of file
@@ -0,0 +1,843 @@
+nsmsgcopyservice
+nsvoidarray
+nsmsgkeyarray
+nspr
+nsifilespec
+mozdeclctorcounter
+nscopysource
+nscopysource
+nscopysource
+mprocessed
+prfalse
+mozcountctor
+nscopysource
+nsresult
+rv
+rv
+nsnewisupportsarray
+getteraddrefs
+mmessagearray
+nscopysource
+nscopysource
+nsimsgfolder
+srcfolder
+mprocessed
+prfalse
+mozcountctor
+nscopysource
+nsresult
+rv
+rv
+nsnewisupportsarray
+getteraddrefs
+mmessagearray
+mmsgfolder
+doqueryinterface
+srcfolder
+rv
+nscopysource
+nscopysource
+mozcountdtor
+nscopysource
+nscopysource
+addmessage
+nsimsgdbhdr
+amsg
+nscomptr
+nsisupports
+supports
+doqueryinterface
+amsg
+supports
+mmessagearray
+appendelement
+supports
+mozdeclctorcounter
+nscopyrequest
+nscopyrequest
+nscopyrequest
+mrequesttype
+nscopymessagestype
+mismoveordraftortemplate
+prfalse
+mprocessed
+prfalse
+mozcountctor
+nscopyrequest
+nscopyrequest
+nscopyrequest
+mozcountdtor
+nscopyrequest
+print
+nscopysource
+ncs
+mcopysourcearray
+count
+ncs
+nscopysource
+mcopysourcearray
+elementat
+ncs
+nsresult
+nscopyrequest
+init
+nscopyrequesttype
+type
+nsisupports
+asupport
+nsimsgfolder
+dstfolder
+prbool
+bval
+nsimsgcopyservicelistener
+listener
+nsimsgwindow
+msgwindow
+prbool
+allowundo
+nsresult
+rv
+nsok
+mrequesttype
+type
+msrcsupport
+asupport
+mdstfolder
+dstfolder
+mismoveordraftortemplate
+bval
+mallowundo
+allowundo
+listener
+mlistener
+listener
+msgwindow
+mmsgwindow
+msgwindow
+mallowundo
+msgwindow
+gettransactionmanager
+getteraddrefs
+mtxnmgr
+type
+nscopyfolderstype
+nscomptr
+nsimsgfolder
+srcfolder
+doqueryinterface
+asupport
+rv
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+foldername
+rv
+srcfolder
+getname
+gettercopies
+foldername
+nsensuresuccess
+rv
+rv
+mdstfoldername
+foldername
+rv
+nscopysource
+nscopyrequest
+addnewcopysource
+nsimsgfolder
+srcfolder
+nscopysource
+newsrc
+nscopysource
+srcfolder
+newsrc
+mcopysourcearray
+appendelement
+newsrc
+newsrc
+nsmsgcopyservice
+nsmsgcopyservice
+nsmsgcopyservice
+nsmsgcopyservice
+print
+nscopyrequest
+copyrequest
+mcopyrequests
+count
+copyrequest
+nscopyrequest
+mcopyrequests
+elementat
+clearrequest
+copyrequest
+nserrorfailure
+nsresult
+nsmsgcopyservice
+clearrequest
+nscopyrequest
+arequest
+nsresult
+rv
+arequest
+arequest
+mallowundo
+arequest
+mcopysourcearray
+count
+arequest
+mtxnmgr
+arequest
+mtxnmgr
+endbatch
+mcopyrequests
+removeelement
+arequest
+arequest
+mlistener
+arequest
+mlistener
+onstopcopy
+rv
+arequest
+rv
+nsresult
+nsmsgcopyservice
+queuerequest
+nscopyrequest
+arequest
+prbool
+acopyimmediately
+nsensureargpointer
+arequest
+nsensureargpointer
+acopyimmediately
+acopyimmediately
+prtrue
+nscopyrequest
+copyrequest
+print
+cnt
+cnt
+mcopyrequests
+count
+cnt
+copyrequest
+nscopyrequest
+mcopyrequests
+elementat
+copyrequest
+mdstfolder
+get
+arequest
+mdstfolder
+get
+acopyimmediately
+prfalse
+nsok
+nsresult
+nsmsgcopyservice
+docopy
+nscopyrequest
+arequest
+nsensurearg
+arequest
+prbool
+copyimmediately
+queuerequest
+arequest
+copyimmediately
+mcopyrequests
+appendelement
+arequest
+copyimmediately
+donextcopy
+nsok
+nsresult
+nsmsgcopyservice
+donextcopy
+nsresult
+rv
+nsok
+nscopyrequest
+copyrequest
+nsnull
+nscopysource
+copysource
+nsnull
+print
+cnt
+scnt
+cnt
+mcopyrequests
+count
+cnt
+cnt
+copyrequest
+nscopyrequest
+mcopyrequests
+elementat
+scnt
+copyrequest
+mcopysourcearray
+count
+copyrequest
+mprocessed
+scnt
+found
+scnt
+copysource
+nscopysource
+copyrequest
+mcopysourcearray
+elementat
+copysource
+mmsgfolder
+copyrequest
+mdstfolder
+copysource
+mprocessed
+prtrue
+copysource
+mprocessed
+found
+scnt
+copyrequest
+mprocessed
+prtrue
+found
+copyrequest
+copyrequest
+mprocessed
+copyrequest
+mlistener
+copyrequest
+mlistener
+onstartcopy
+copyrequest
+mrequesttype
+nscopymessagestype
+copysource
+copysource
+mprocessed
+prtrue
+rv
+copyrequest
+mdstfolder
+copymessages
+copysource
+mmsgfolder
+copysource
+mmessagearray
+copyrequest
+mismoveordraftortemplate
+copyrequest
+mmsgwindow
+copyrequest
+mlistener
+prfalse
+copyrequest
+mallowundo
+copyrequest
+mrequesttype
+nscopyfolderstype
+copysource
+mprocessed
+prtrue
+rv
+copyrequest
+mdstfolder
+copyfolder
+copysource
+mmsgfolder
+copyrequest
+mismoveordraftortemplate
+copyrequest
+mmsgwindow
+copyrequest
+mlistener
+copyrequest
+mrequesttype
+nscopyfilemessagetype
+nscomptr
+nsifilespec
+aspec
+doqueryinterface
+copyrequest
+msrcsupport
+rv
+nssucceeded
+rv
+nscomptr
+nsimsgdbhdr
+amessage
+copysource
+amessage
+doqueryelementat
+copysource
+mmessagearray
+rv
+copysource
+mprocessed
+prtrue
+copyrequest
+mprocessed
+prtrue
+rv
+copyrequest
+mdstfolder
+copyfilemessage
+aspec
+amessage
+copyrequest
+mismoveordraftortemplate
+copyrequest
+mmsgwindow
+copyrequest
+mlistener
+rv
+nscopyrequest
+nsmsgcopyservice
+findrequest
+nsisupports
+asupport
+nsimsgfolder
+dstfolder
+nscopyrequest
+copyrequest
+nsnull
+print
+cnt
+cnt
+mcopyrequests
+count
+cnt
+copyrequest
+nscopyrequest
+mcopyrequests
+elementat
+copyrequest
+mrequesttype
+nscopyfolderstype
+copyrequest
+msrcsupport
+get
+asupport
+nscomptr
+nsimsgfolder
+parentmsgfolder
+nsresult
+rv
+dstfolder
+getparentmsgfolder
+getteraddrefs
+parentmsgfolder
+nsfailed
+rv
+parentmsgfolder
+copyrequest
+mdstfolder
+get
+parentmsgfolder
+nsxpidlstring
+foldername
+rv
+dstfolder
+getname
+gettercopies
+foldername
+nsfailed
+rv
+copyrequest
+mdstfoldername
+foldername
+copyrequest
+msrcsupport
+get
+asupport
+copyrequest
+mdstfolder
+get
+dstfolder
+copyrequest
+nsnull
+copyrequest
+nsimplthreadsafeisupports
+nsmsgcopyservice
+nsimsgcopyservice
+nsimethodimp
+nsmsgcopyservice
+copymessages
+nsimsgfolder
+srcfolder
+nsisupportsarray
+messages
+nsimsgfolder
+dstfolder
+prbool
+ismove
+nsimsgcopyservicelistener
+listener
+nsimsgwindow
+window
+prbool
+allowundo
+nsensureargpointer
+srcfolder
+nsensureargpointer
+messages
+nsensureargpointer
+dstfolder
+nscopyrequest
+copyrequest
+nscopysource
+copysource
+nsnull
+nscomptr
+nsisupportsarray
+msgarray
+pruint
+cnt
+nscomptr
+nsimsgdbhdr
+msg
+nscomptr
+nsimsgfolder
+curfolder
+nscomptr
+nsisupports
+asupport
+nsresult
+rv
+copyrequest
+nscopyrequest
+copyrequest
+nserroroutofmemory
+asupport
+doqueryinterface
+srcfolder
+rv
+rv
+copyrequest
+init
+nscopymessagestype
+asupport
+dstfolder
+ismove
+listener
+window
+allowundo
+nsfailed
+rv
+done
+rv
+nsnewisupportsarray
+getteraddrefs
+msgarray
+nsfailed
+rv
+done
+messages
+count
+cnt
+msgarray
+appendelements
+messages
+rv
+msgarray
+count
+cnt
+nsfailed
+rv
+done
+cnt
+msg
+doqueryelementat
+msgarray
+cnt
+rv
+nsfailed
+rv
+done
+rv
+msg
+getfolder
+getteraddrefs
+curfolder
+nsfailed
+rv
+done
+copysource
+copysource
+copyrequest
+addnewcopysource
+curfolder
+copysource
+rv
+nserroroutofmemory
+done
+curfolder
+copysource
+mmsgfolder
+copysource
+addmessage
+msg
+msgarray
+removeelementat
+cnt
+cnt
+rv
+msgarray
+count
+cnt
+cnt
+copysource
+nsnull
+nssucceeded
+rv
+copyrequest
+mallowundo
+copyrequest
+mcopysourcearray
+count
+copyrequest
+mtxnmgr
+copyrequest
+mtxnmgr
+beginbatch
+done
+nsfailed
+rv
+copyrequest
+rv
+docopy
+copyrequest
+msgarray
+clear
+rv
+nsimethodimp
+nsmsgcopyservice
+copyfolders
+nsisupportsarray
+folders
+nsimsgfolder
+dstfolder
+prbool
+ismove
+nsimsgcopyservicelistener
+listener
+nsimsgwindow
+window
+nscopyrequest
+copyrequest
+nscopysource
+copysource
+nsnull
+nsresult
+rv
+nserrornullpointer
+pruint
+cnt
+nscomptr
+nsifolder
+folder
+nscomptr
+nsimsgfolder
+curfolder
+nscomptr
+nsisupports
+support
+folders
+dstfolder
+rv
+rv
+folders
+count
+cnt
+cnt
+nsassertion
+nssucceeded
+rv
+more
+than
+one
+folders
+to
+copy
+support
+getteraddrefs
+folders
+elementat
+copyrequest
+nscopyrequest
+copyrequest
+nserroroutofmemory
+rv
+copyrequest
+init
+nscopyfolderstype
+support
+dstfolder
+ismove
+listener
+window
+prfalse
+nsensuresuccess
+rv
+rv
+folder
+doqueryinterface
+support
+rv
+nsensuresuccess
+rv
+rv
+curfolder
+doqueryinterface
+folder
+rv
+nsensuresuccess
+rv
+rv
+copysource
+copyrequest
+addnewcopysource
+curfolder
+copysource
+rv
+nserroroutofmemory
+nsfailed
+rv
+copyrequest
+nsensuresuccess
+rv
+rv
+rv
+docopy
+copyrequest
+rv
+nsimethodimp
+nsmsgcopyservice
+copyfilemessage
+nsifilespec
+filespec
+nsimsgfolder
+dstfolder
+nsimsgdbhdr
+msgtoreplace
+prbool
+isdraft
+nsimsgcopyservicelistener
+listener
+nsimsgwindow
+window
+nsresult
+rv
+nserrornullpointer
+nscopyrequest
+copyrequest
+nscopysource
+copysource
+nsnull
+nscomptr
+nsisupports
+filesupport
+nscomptr
+nsitransactionmanager
+txnmgr
+nsensureargpointer
+filespec
+nsensureargpointer
+dstfolder
+window
+window
+gettransactionmanager
+getteraddrefs
+txnmgr
+copyrequest
+nscopyrequest
+copyrequest
+rv
+filesupport
+doqueryinterface
+filespec
+rv
+nsfailed
+rv
+done
+rv
+copyrequest
+init
+nscopyfilemessagetype
+filesupport
+dstfolder
+isdraft
+listener
+window
+prfalse
+nsfailed
+rv
+done
+msgtoreplace
+copysource
+copyrequest
+addnewcopysource
+dstfolder
+copysource
+rv
+nserroroutofmemory
+done
+copysource
+addmessage
+msgtoreplace
+done
+nsfailed
+rv
+copyrequest
+rv
+docopy
+copyrequest
+rv
+nsimethodimp
+nsmsgcopyservice
+notifycompletion
+nsisupports
+asupport
+nsimsgfolder
+dstfolder
+nsresult
+result
+nsresult
+rv
+rv
+donextcopy
+nscopyrequest
+copyrequest
+findrequest
+asupport
+dstfolder
+copyrequest
+copyrequest
+mprocessed
+clearrequest
+copyrequest
+result
+rv
+nsresult
+nsnewmsgcopyservice
+nsiid
+iid
+result
+nsmsgcopyservice
+copyservice
+result
+nserrornullpointer
+copyservice
+nsmsgcopyservice
+copyservice
+nserroroutofmemory
+copyservice
+queryinterface
+iid
+result
\ No newline at end of file
@@ -0,0 +1,668 @@
+msgcore
+nsimsgaccountmanager
+nsmsgfoldercacheelement
+nsmsgfoldercache
+nsmorkcid
+nsimdbfactoryfactory
+nsfilestream
+nsifilespec
+nsxpidlstring
+nsmsgbasecid
+nsdefinecid
+kmorkcid
+nsmorkcid
+kfoldersscope
+ns
+msg
+db
+row
+scope
+folders
+all
+kfolderstablekind
+ns
+msg
+db
+table
+kind
+folders
+nsmsgfoldercache
+nsmsgfoldercache
+mcacheelements
+nsnull
+mmdbenv
+nsnull
+mmdbstore
+nsnull
+mmdballfolderstable
+nsnull
+nsimdbfactory
+gmdbfactory
+nsnull
+nsmsgfoldercache
+nsmsgfoldercache
+mcacheelements
+mmdballfolderstable
+mmdballfolderstable
+release
+mmdbstore
+mmdbstore
+release
+gmdbfactory
+nsrelease
+gmdbfactory
+gmdbfactory
+nsnull
+mmdbenv
+mmdbenv
+release
+nsimpladdref
+nsmsgfoldercache
+nsimplrelease
+nsmsgfoldercache
+nsresult
+nsmsgfoldercache
+queryinterface
+nsiid
+iid
+result
+nsresult
+rv
+nsnointerface
+result
+nserrornullpointer
+res
+nsnull
+iid
+equals
+nsgetiid
+nsimsgfoldercache
+iid
+equals
+nsgetiid
+nsisupports
+res
+nsstaticcast
+nsimsgfoldercache
+res
+nsaddref
+result
+res
+rv
+nsok
+rv
+nsimdbfactory
+nsmsgfoldercache
+getmdbfactory
+gmdbfactory
+nsresult
+rv
+nscomptr
+nsimdbfactoryfactory
+factoryfactory
+rv
+nscomponentmanager
+createinstance
+kmorkcid
+nsnull
+nsgetiid
+nsimdbfactoryfactory
+getteraddrefs
+factoryfactory
+nssucceeded
+rv
+factoryfactory
+rv
+factoryfactory
+getmdbfactory
+gmdbfactory
+gmdbfactory
+nsresult
+nsmsgfoldercache
+initmdbinfo
+nsresult
+err
+nsok
+getstore
+err
+getstore
+stringtotoken
+getenv
+kfoldersscope
+mfolderrowscopetoken
+err
+nsok
+err
+getstore
+stringtotoken
+getenv
+kfolderstablekind
+mfoldertablekindtoken
+err
+nsok
+mallfolderstableoid
+moidscope
+mfolderrowscopetoken
+mallfolderstableoid
+moidid
+err
+nsresult
+nsmsgfoldercache
+initnewdb
+nsresult
+err
+nsok
+err
+initmdbinfo
+err
+nsok
+nsimdbstore
+store
+getstore
+mdberr
+mdberr
+mdberr
+nsresult
+store
+newtable
+getenv
+mfolderrowscopetoken
+mfoldertablekindtoken
+prfalse
+nsnull
+mmdballfolderstable
+err
+nsresult
+nsmsgfoldercache
+initexistingdb
+nsresult
+err
+nsok
+err
+initmdbinfo
+err
+nsok
+err
+getstore
+gettable
+getenv
+mallfolderstableoid
+mmdballfolderstable
+nssucceeded
+err
+mmdballfolderstable
+nsimdbtablerowcursor
+rowcursor
+nsnull
+err
+mmdballfolderstable
+gettablerowcursor
+getenv
+rowcursor
+nssucceeded
+err
+rowcursor
+prtrue
+nsresult
+rv
+nsimdbrow
+hdrrow
+mdbpos
+rowpos
+rv
+rowcursor
+nextrow
+getenv
+hdrrow
+rowpos
+nsfailed
+rv
+hdrrow
+rv
+addcacheelement
+nsnull
+hdrrow
+nsnull
+hdrrow
+release
+nsfailed
+rv
+rv
+rowcursor
+release
+err
+nserrorfailure
+err
+nsresult
+nsmsgfoldercache
+openmdb
+dbname
+prbool
+exists
+nsresult
+ret
+nsok
+nsimdbfactory
+mymdbfactory
+getmdbfactory
+mymdbfactory
+ret
+mymdbfactory
+makeenv
+nsnull
+mmdbenv
+nssucceeded
+ret
+nsimdbthumb
+thumb
+nsnull
+nativefilename
+nscrt
+strdup
+dbname
+nsimdbheap
+dbheap
+mdbbool
+dbfrozen
+mdbboolkfalse
+nativefilename
+nserroroutofmemory
+mmdbenv
+mmdbenv
+setautoclear
+prtrue
+exists
+mdbopenpolicy
+inopenpolicy
+mdbbool
+canopen
+mdbyarn
+outformatversion
+nsimdbfile
+oldfile
+ret
+mymdbfactory
+openoldfile
+mmdbenv
+dbheap
+nativefilename
+dbfrozen
+oldfile
+oldfile
+ret
+nsok
+ret
+mymdbfactory
+canopenfileport
+mmdbenv
+oldfile
+canopen
+outformatversion
+ret
+canopen
+inopenpolicy
+mopenpolicyscopeplan
+mscopestringsetcount
+inopenpolicy
+mopenpolicyminmemory
+inopenpolicy
+mopenpolicymaxlazy
+ret
+mymdbfactory
+openfilestore
+mmdbenv
+oldfile
+inopenpolicy
+thumb
+ret
+nsmsgerrorfoldersummaryoutofdate
+nsrelease
+oldfile
+nssucceeded
+ret
+thumb
+mdbcount
+outtotal
+mdbcount
+outcurrent
+mdbbool
+outdone
+prfalse
+mdbbool
+outbroken
+ret
+thumb
+domore
+mmdbenv
+outtotal
+outcurrent
+outdone
+outbroken
+ret
+outdone
+prtrue
+nssucceeded
+ret
+outbroken
+outdone
+nssucceeded
+ret
+outdone
+ret
+mymdbfactory
+thumbtoopenstore
+mmdbenv
+thumb
+mmdbstore
+ret
+nsok
+mmdbstore
+ret
+initexistingdb
+ifdef
+debugbienvenu
+dumpcontents
+endif
+nsimdbfile
+newfile
+ret
+mymdbfactory
+createnewfile
+mmdbenv
+dbheap
+dbname
+newfile
+newfile
+ret
+nsok
+mdbopenpolicy
+inopenpolicy
+inopenpolicy
+mopenpolicyscopeplan
+mscopestringsetcount
+inopenpolicy
+mopenpolicyminmemory
+inopenpolicy
+mopenpolicymaxlazy
+ret
+mymdbfactory
+createnewfilestore
+mmdbenv
+dbheap
+newfile
+inopenpolicy
+mmdbstore
+ret
+nsok
+ret
+initnewdb
+nsrelease
+newfile
+nsifrelease
+thumb
+nscrt
+free
+nativefilename
+ret
+nsimethodimp
+nsmsgfoldercache
+init
+nsifilespec
+dbfilespec
+dbfilespec
+nserrornullpointer
+nsresult
+rv
+nserroroutofmemory
+mcacheelements
+nssupportshashtable
+mcacheelements
+rv
+dbfilespec
+getfilespec
+mdbfilespec
+nssucceeded
+rv
+prbool
+exists
+mdbfilespec
+exists
+rv
+openmdb
+mdbfilespec
+exists
+nsfailed
+rv
+exists
+mmdbstore
+mmdbstore
+release
+mdbfilespec
+delete
+prfalse
+rv
+openmdb
+mdbfilespec
+prfalse
+rv
+nsimethodimp
+nsmsgfoldercache
+getcacheelement
+pathkey
+prbool
+createifmissing
+nsimsgfoldercacheelement
+result
+result
+pathkey
+mcacheelements
+nserrornullpointer
+pathkey
+nserrorfailure
+nscstringkey
+hashkey
+pathkey
+result
+nsimsgfoldercacheelement
+mcacheelements
+get
+hashkey
+result
+nsok
+createifmissing
+nsimdbrow
+hdrrow
+getstore
+mdberr
+err
+getstore
+newrow
+getenv
+mfolderrowscopetoken
+hdrrow
+nssucceeded
+err
+hdrrow
+mmdballfolderstable
+addrow
+getenv
+hdrrow
+nsresult
+ret
+addcacheelement
+pathkey
+hdrrow
+result
+result
+result
+setstringproperty
+key
+pathkey
+hdrrow
+release
+ret
+nserrorfailure
+nsimethodimp
+nsmsgfoldercache
+close
+commit
+prtrue
+nsimethodimp
+nsmsgfoldercache
+commit
+prbool
+compress
+nsresult
+ret
+nsok
+nsimdbthumb
+committhumb
+nsnull
+mmdbstore
+compress
+ret
+mmdbstore
+compresscommit
+getenv
+committhumb
+ret
+mmdbstore
+largecommit
+getenv
+committhumb
+committhumb
+mdbcount
+outtotal
+mdbcount
+outcurrent
+mdbbool
+outdone
+prfalse
+mdbbool
+outbroken
+prfalse
+outdone
+outbroken
+ret
+nsok
+ret
+committhumb
+domore
+getenv
+outtotal
+outcurrent
+outdone
+outbroken
+nsifrelease
+committhumb
+getenv
+getenv
+clearerrors
+ret
+nsresult
+nsmsgfoldercache
+addcacheelement
+key
+nsimdbrow
+row
+nsimsgfoldercacheelement
+result
+nsmsgfoldercacheelement
+cacheelement
+nsmsgfoldercacheelement
+cacheelement
+cacheelement
+setmdbrow
+row
+cacheelement
+setowningcache
+nscautostring
+hashstrkey
+key
+key
+existingkey
+nsnull
+cacheelement
+getstringproperty
+key
+existingkey
+cacheelement
+setkey
+existingkey
+hashstrkey
+existingkey
+prfree
+existingkey
+cacheelement
+setkey
+key
+nscomptr
+nsisupports
+supports
+doqueryinterface
+cacheelement
+supports
+nscstringkey
+hashkey
+hashstrkey
+mcacheelements
+put
+hashkey
+supports
+result
+result
+cacheelement
+nsaddref
+result
+nsok
+nserroroutofmemory
+nsresult
+nsmsgfoldercache
+rowcellcolumntocharptr
+nsimdbrow
+hdrrow
+mdbtoken
+columntoken
+resultptr
+nsresult
+err
+nsok
+nsimdbcell
+hdrcell
+hdrrow
+err
+hdrrow
+getcell
+getenv
+columntoken
+hdrcell
+err
+nsok
+hdrcell
+mdbyarn
+yarn
+hdrcell
+aliasyarn
+getenv
+yarn
+result
+prmalloc
+yarn
+myarnfill
+result
+memcpy
+result
+yarn
+myarnbuf
+yarn
+myarnfill
+result
+yarn
+myarnfill
+err
+nserroroutofmemory
+resultptr
+result
+hdrcell
+release
+err
\ No newline at end of file
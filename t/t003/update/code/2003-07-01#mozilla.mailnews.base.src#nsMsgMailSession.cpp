@@ -0,0 +1,822 @@
+msgcore
+nsmsgbasecid
+nsmsgmailsession
+nscomptr
+nsimsgstatusfeedback
+nsimsgwindow
+nsimsgmessageservice
+nsmsgutils
+nsiuri
+nsxpidlstring
+nsimsgaccountmanager
+nsichromeregistry
+nsidirectoryservice
+nsappdirectoryservicedefs
+nsreadableutils
+nsidomwindowinternal
+nsidomdocument
+nsidomelement
+nsiwindowmediator
+nsiscriptglobalobject
+nsidocshell
+nsimplthreadsafeaddref
+nsmsgmailsession
+nsimplthreadsaferelease
+nsmsgmailsession
+nsinterfacemapbegin
+nsmsgmailsession
+nsinterfacemapentry
+nsimsgmailsession
+nsinterfacemapentry
+nsifolderlistener
+nsinterfacemapentryambiguous
+nsisupports
+nsimsgmailsession
+nsinterfacemapendthreadsafe
+nsmsgmailsession
+nsmsgmailsession
+nsmsgmailsession
+nsmsgmailsession
+shutdown
+nsresult
+nsmsgmailsession
+init
+nsnewisupportsarray
+getteraddrefs
+mwindows
+nsresult
+nsmsgmailsession
+shutdown
+nsok
+nsimethodimp
+nsmsgmailsession
+addfolderlistener
+nsifolderlistener
+listener
+pruint
+notifyflags
+mlisteners
+appendobject
+listener
+mlistenernotifyflags
+add
+notifyflags
+nsok
+nsimethodimp
+nsmsgmailsession
+removefolderlistener
+nsifolderlistener
+listener
+print
+index
+mlisteners
+indexof
+listener
+nsassertion
+index
+removing
+non
+existent
+listener
+index
+mlistenernotifyflags
+removeat
+index
+mlisteners
+removeobjectat
+index
+nsok
+nsimethodimp
+nsmsgmailsession
+onitempropertychanged
+nsisupports
+item
+nsiatom
+property
+oldvalue
+newvalue
+print
+count
+mlisteners
+count
+print
+count
+mlistenernotifyflags
+nsifolderlistener
+propertychanged
+nscomptr
+nsifolderlistener
+listener
+mlisteners
+nsassertion
+listener
+listener
+is
+listener
+nserrorfailure
+listener
+onitempropertychanged
+item
+property
+oldvalue
+newvalue
+nsok
+nsimethodimp
+nsmsgmailsession
+onitemunicharpropertychanged
+nsisupports
+item
+nsiatom
+property
+prunichar
+oldvalue
+prunichar
+newvalue
+print
+count
+mlisteners
+count
+print
+count
+mlistenernotifyflags
+nsifolderlistener
+unicharpropertychanged
+nscomptr
+nsifolderlistener
+listener
+mlisteners
+nsassertion
+listener
+listener
+is
+listener
+nserrorfailure
+listener
+onitemunicharpropertychanged
+item
+property
+oldvalue
+newvalue
+nsok
+nsimethodimp
+nsmsgmailsession
+onitemintpropertychanged
+nsisupports
+item
+nsiatom
+property
+print
+oldvalue
+print
+newvalue
+print
+count
+mlisteners
+count
+print
+count
+mlistenernotifyflags
+nsifolderlistener
+intpropertychanged
+nscomptr
+nsifolderlistener
+listener
+mlisteners
+nsassertion
+listener
+listener
+is
+listener
+nserrorfailure
+listener
+onitemintpropertychanged
+item
+property
+oldvalue
+newvalue
+nsok
+nsimethodimp
+nsmsgmailsession
+onitemboolpropertychanged
+nsisupports
+item
+nsiatom
+property
+prbool
+oldvalue
+prbool
+newvalue
+print
+count
+mlisteners
+count
+print
+count
+mlistenernotifyflags
+nsifolderlistener
+boolpropertychanged
+nscomptr
+nsifolderlistener
+listener
+mlisteners
+nsassertion
+listener
+listener
+is
+listener
+nserrorfailure
+listener
+onitemboolpropertychanged
+item
+property
+oldvalue
+newvalue
+nsok
+nsimethodimp
+nsmsgmailsession
+onitempropertyflagchanged
+nsisupports
+item
+nsiatom
+property
+pruint
+oldvalue
+pruint
+newvalue
+print
+count
+mlisteners
+count
+print
+count
+mlistenernotifyflags
+nsifolderlistener
+propertyflagchanged
+nscomptr
+nsifolderlistener
+listener
+mlisteners
+nsassertion
+listener
+listener
+is
+listener
+nserrorfailure
+listener
+onitempropertyflagchanged
+item
+property
+oldvalue
+newvalue
+nsok
+nsimethodimp
+nsmsgmailsession
+onitemadded
+nsisupports
+parentitem
+nsisupports
+item
+viewstring
+print
+count
+mlisteners
+count
+print
+count
+mlistenernotifyflags
+nsifolderlistener
+added
+nscomptr
+nsifolderlistener
+listener
+mlisteners
+nsassertion
+listener
+listener
+is
+listener
+nserrorfailure
+listener
+onitemadded
+parentitem
+item
+viewstring
+nsok
+nsimethodimp
+nsmsgmailsession
+onitemremoved
+nsisupports
+parentitem
+nsisupports
+item
+viewstring
+print
+count
+mlisteners
+count
+print
+count
+mlistenernotifyflags
+nsifolderlistener
+removed
+nscomptr
+nsifolderlistener
+listener
+mlisteners
+nsassertion
+listener
+listener
+is
+listener
+nserrorfailure
+listener
+onitemremoved
+parentitem
+item
+viewstring
+nsok
+nsimethodimp
+nsmsgmailsession
+onitemevent
+nsifolder
+afolder
+nsiatom
+aevent
+print
+count
+mlisteners
+count
+print
+count
+mlistenernotifyflags
+nsifolderlistener
+event
+nscomptr
+nsifolderlistener
+listener
+mlisteners
+listener
+listener
+onitemevent
+afolder
+aevent
+nsok
+nsresult
+nsmsgmailsession
+gettopmostmsgwindow
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+amsgwindow
+nserrornullpointer
+amsgwindow
+nsnull
+mwindows
+pruint
+count
+rv
+mwindows
+count
+count
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgwindow
+msgwindow
+count
+msgwindow
+doqueryelementat
+mwindows
+rv
+nsensuresuccess
+rv
+rv
+nsifaddref
+amsgwindow
+msgwindow
+count
+nscomptr
+nsiwindowmediator
+windowmediator
+dogetservice
+nswindowmediatorcontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisimpleenumerator
+windowenum
+rv
+windowmediator
+getzorderdomwindowenumerator
+nsnull
+prtrue
+getteraddrefs
+windowenum
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupports
+windowsupports
+nscomptr
+nsidomwindow
+topmostwindow
+nscomptr
+nsidomdocument
+domdocument
+nscomptr
+nsidomelement
+domelement
+nsautostring
+windowtype
+prbool
+more
+windowenum
+hasmoreelements
+more
+more
+rv
+windowenum
+getnext
+getteraddrefs
+windowsupports
+nsensuresuccess
+rv
+rv
+nsensuretrue
+windowsupports
+nserrorfailure
+topmostwindow
+doqueryinterface
+windowsupports
+rv
+nsensuresuccess
+rv
+rv
+nsensuretrue
+topmostwindow
+nserrorfailure
+rv
+topmostwindow
+getdocument
+getteraddrefs
+domdocument
+nsensuresuccess
+rv
+rv
+nsensuretrue
+domdocument
+nserrorfailure
+rv
+domdocument
+getdocumentelement
+getteraddrefs
+domelement
+nsensuresuccess
+rv
+rv
+nsensuretrue
+domelement
+nserrorfailure
+rv
+domelement
+getattribute
+nsliteralstring
+windowtype
+windowtype
+nsensuresuccess
+rv
+rv
+windowtype
+equals
+nsliteralstring
+mail
+pane
+windowtype
+equals
+nsliteralstring
+mail
+messagewindow
+windowenum
+hasmoreelements
+more
+more
+nscomptr
+nsiscriptglobalobject
+globalobj
+doqueryinterface
+topmostwindow
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsidocshell
+topdocshell
+rv
+globalobj
+getdocshell
+getteraddrefs
+topdocshell
+nsensuresuccess
+rv
+rv
+nscomptr
+nsidocshell
+docshell
+count
+msgwindow
+doqueryelementat
+mwindows
+count
+rv
+nsensuresuccess
+rv
+rv
+rv
+msgwindow
+getrootdocshell
+getteraddrefs
+docshell
+nsensuresuccess
+rv
+rv
+topdocshell
+docshell
+nsifaddref
+amsgwindow
+msgwindow
+count
+amsgwindow
+nsok
+nserrorfailure
+nsimethodimp
+nsmsgmailsession
+addmsgwindow
+nsimsgwindow
+msgwindow
+mwindows
+appendelement
+msgwindow
+nsok
+nsimethodimp
+nsmsgmailsession
+removemsgwindow
+nsimsgwindow
+msgwindow
+mwindows
+removeelement
+msgwindow
+pruint
+count
+mwindows
+count
+count
+count
+nsresult
+rv
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsfailed
+rv
+rv
+accountmanager
+cleanuponexit
+nsok
+nsimethodimp
+nsmsgmailsession
+getmsgwindowsarray
+nsisupportsarray
+awindowsarray
+awindowsarray
+nserrornullpointer
+awindowsarray
+mwindows
+nsifaddref
+awindowsarray
+nsok
+nsimethodimp
+nsmsgmailsession
+isfolderopeninwindow
+nsimsgfolder
+folder
+prbool
+aresult
+aresult
+nserrornullpointer
+aresult
+prfalse
+pruint
+count
+nsresult
+rv
+mwindows
+count
+count
+nsfailed
+rv
+rv
+mwindows
+pruint
+count
+nscomptr
+nsimsgwindow
+openwindow
+getteraddrefs
+nsimsgwindow
+mwindows
+elementat
+nscomptr
+nsimsgfolder
+openfolder
+openwindow
+openwindow
+getopenfolder
+getteraddrefs
+openfolder
+folder
+openfolder
+get
+aresult
+prtrue
+nsok
+nsimethodimp
+nsmsgmailsession
+convertmsguritomsgurl
+auri
+nsimsgwindow
+amsgwindow
+aurl
+auri
+aurl
+nserrornullpointer
+nscomptr
+nsimsgmessageservice
+msgservice
+nsresult
+rv
+getmessageservicefromuri
+auri
+getteraddrefs
+msgservice
+nsfailed
+rv
+nserrornullpointer
+nscomptr
+nsiuri
+turi
+rv
+msgservice
+geturlforuri
+auri
+getteraddrefs
+turi
+amsgwindow
+nsfailed
+rv
+nserrornullpointer
+nscautostring
+urlstring
+nssucceeded
+turi
+getspec
+urlstring
+aurl
+tonewcstring
+urlstring
+aurl
+nserrornullpointer
+rv
+nsresult
+nsmsgmailsession
+getselectedlocaledatadir
+nsifile
+defaultsdir
+nsensureargpointer
+defaultsdir
+nsresult
+rv
+prbool
+basedirexists
+prfalse
+rv
+defaultsdir
+exists
+basedirexists
+nsensuresuccess
+rv
+rv
+basedirexists
+nscomptr
+nsixulchromeregistry
+packageregistry
+dogetservice
+registry
+rv
+nssucceeded
+rv
+nscautostring
+localename
+rv
+packageregistry
+getselectedlocale
+nsliteralcstring
+global
+region
+localename
+nssucceeded
+rv
+localename
+isempty
+prbool
+localedirexists
+prfalse
+nscomptr
+nsifile
+localedatadir
+rv
+defaultsdir
+clone
+getteraddrefs
+localedatadir
+nsensuresuccess
+rv
+rv
+rv
+localedatadir
+appendnative
+localename
+nsensuresuccess
+rv
+rv
+rv
+localedatadir
+exists
+localedirexists
+nsensuresuccess
+rv
+rv
+localedirexists
+rv
+defaultsdir
+appendnative
+localename
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsmsgmailsession
+getdatafilesdir
+dirname
+nsifile
+datafilesdir
+nsensureargpointer
+datafilesdir
+nsresult
+rv
+nscomptr
+nsiproperties
+directoryservice
+dogetservice
+nsdirectoryservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsifile
+defaultsdir
+rv
+directoryservice
+get
+nsappdefaultsdir
+nsgetiid
+nsifile
+getteraddrefs
+defaultsdir
+nsensuresuccess
+rv
+rv
+rv
+defaultsdir
+appendnative
+nsdependentcstring
+dirname
+nssucceeded
+rv
+rv
+getselectedlocaledatadir
+defaultsdir
+nsifaddref
+datafilesdir
+defaultsdir
+rv
\ No newline at end of file
@@ -0,0 +1,562 @@
+msgcore
+netcore
+nsmsgofflinemanager
+nsiservicemanager
+nsisupportsarray
+nsmsgbasecid
+nsiimapservice
+nsmsgimapcid
+nsimsgsendlater
+nsimsgaccountmanager
+nsmsgcompcid
+nsiioservice
+nsnetcid
+nsmsgnewscid
+nsinntpservice
+nsxpidlstring
+nsdefinecid
+kmsgsendlatercid
+nsmsgsendlatercid
+nsdefinecid
+kioservicecid
+nsioservicecid
+nsimplthreadsafeisupports
+nsmsgofflinemanager
+nsimsgofflinemanager
+nsimsgsendlaterlistener
+nsiobserver
+nsisupportsweakreference
+nsiurllistener
+nsmsgofflinemanager
+nsmsgofflinemanager
+minprogress
+prfalse
+msendunsentmessages
+prfalse
+mdownloadnews
+prfalse
+mdownloadmail
+prfalse
+mplaybackofflineimapops
+prfalse
+mgoofflinewhendone
+prfalse
+mcurstate
+enostate
+mcuroperation
+enoop
+nsmsgofflinemanager
+nsmsgofflinemanager
+nsimethodimp
+nsmsgofflinemanager
+getwindow
+nsimsgwindow
+awindow
+nsensurearg
+awindow
+awindow
+mwindow
+nsifaddref
+awindow
+nsok
+nsimethodimp
+nsmsgofflinemanager
+setwindow
+nsimsgwindow
+awindow
+mwindow
+awindow
+mwindow
+mwindow
+getstatusfeedback
+getteraddrefs
+mstatusfeedback
+mstatusfeedback
+nsnull
+nsok
+nsimethodimp
+nsmsgofflinemanager
+getinprogress
+prbool
+ainprogress
+nsensurearg
+ainprogress
+ainprogress
+minprogress
+nsok
+nsimethodimp
+nsmsgofflinemanager
+setinprogress
+prbool
+ainprogress
+minprogress
+ainprogress
+nsok
+nsresult
+nsmsgofflinemanager
+stoprunning
+nsresult
+exitstatus
+minprogress
+prfalse
+exitstatus
+nsresult
+nsmsgofflinemanager
+advancetonextstate
+nsresult
+exitstatus
+exitstatus
+nsbindingaborted
+stoprunning
+exitstatus
+mcuroperation
+egoingonline
+mcurstate
+enostate
+mcurstate
+esendingunsent
+msendunsentmessages
+sendunsentmessages
+advancetonextstate
+nsok
+esendingunsent
+mcurstate
+esynchronizingofflineimapchanges
+mplaybackofflineimapops
+synchronizeofflineimapchanges
+advancetonextstate
+nsok
+esynchronizingofflineimapchanges
+mcurstate
+edone
+stoprunning
+exitstatus
+nsassertion
+prfalse
+unhandled
+current
+state
+when
+going
+online
+mcuroperation
+edownloadingforoffline
+mcurstate
+enostate
+mcurstate
+edownloadingnews
+mdownloadnews
+downloadofflinenewsgroups
+advancetonextstate
+nsok
+esendingunsent
+mgoofflinewhendone
+setonlinestate
+prfalse
+edownloadingnews
+mcurstate
+edownloadingmail
+mdownloadmail
+downloadmail
+advancetonextstate
+nsok
+edownloadingmail
+mcurstate
+esendingunsent
+msendunsentmessages
+sendunsentmessages
+advancetonextstate
+nsok
+nsassertion
+prfalse
+unhandled
+current
+state
+when
+downloading
+offline
+nsok
+nsresult
+nsmsgofflinemanager
+synchronizeofflineimapchanges
+nsresult
+rv
+nsok
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+imapservice
+playbackallofflineoperations
+mwindow
+getteraddrefs
+mofflineimapsync
+nsresult
+nsmsgofflinemanager
+sendunsentmessages
+nsresult
+rv
+showstatus
+sendingunsent
+nscomptr
+nsimsgsendlater
+pmsgsendlater
+docreateinstance
+kmsgsendlatercid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupportsarray
+identities
+nssucceeded
+rv
+accountmanager
+rv
+accountmanager
+getallidentities
+getteraddrefs
+identities
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgidentity
+identitytouse
+pruint
+numindentities
+identities
+count
+numindentities
+pruint
+numindentities
+nscomptr
+nsisupports
+thissupports
+rv
+identities
+getelementat
+getteraddrefs
+thissupports
+nsfailed
+rv
+nscomptr
+nsimsgidentity
+thisidentity
+doqueryinterface
+thissupports
+rv
+nssucceeded
+rv
+thisidentity
+nscomptr
+nsimsgfolder
+outboxfolder
+pmsgsendlater
+getunsentmessagesfolder
+thisidentity
+getteraddrefs
+outboxfolder
+outboxfolder
+print
+nummessages
+outboxfolder
+gettotalmessages
+prfalse
+nummessages
+nummessages
+identitytouse
+thisidentity
+identitytouse
+pmsgsendlater
+addlistener
+pmsgsendlater
+setmsgwindow
+mwindow
+rv
+pmsgsendlater
+sendunsentmessages
+identitytouse
+nssucceeded
+rv
+rv
+advancetonextstate
+rv
+define
+messengerstringurl
+messenger
+locale
+messenger
+properties
+nsresult
+nsmsgofflinemanager
+showstatus
+statusmsgname
+nsresult
+res
+nsok
+mstringbundle
+propertyurl
+messengerstringurl
+nscomptr
+nsistringbundleservice
+sbundleservice
+dogetservice
+nsstringbundlecontractid
+res
+nssucceeded
+res
+nsnull
+sbundleservice
+res
+sbundleservice
+createbundle
+propertyurl
+getteraddrefs
+mstringbundle
+mstringbundle
+nsxpidlstring
+statusstring
+res
+mstringbundle
+getstringfromname
+nsconvertasciitoucs
+statusmsgname
+get
+gettercopies
+statusstring
+nssucceeded
+res
+onstatus
+statusstring
+res
+nsresult
+nsmsgofflinemanager
+downloadofflinenewsgroups
+nsresult
+rv
+showstatus
+downloadingnewsgroups
+nscomptr
+nsinntpservice
+nntpservice
+dogetservice
+nsnntpservicecontractid
+rv
+nssucceeded
+rv
+nntpservice
+rv
+nntpservice
+downloadnewsgroupsforoffline
+mwindow
+nsfailed
+rv
+advancetonextstate
+rv
+rv
+nsresult
+nsmsgofflinemanager
+downloadmail
+nsresult
+rv
+nsok
+showstatus
+downloadingmail
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+imapservice
+downloadalloffineimapfolders
+mwindow
+nsimethodimp
+nsmsgofflinemanager
+goonline
+prbool
+sendunsentmessages
+prbool
+playbackofflineimapoperations
+nsimsgwindow
+amsgwindow
+msendunsentmessages
+sendunsentmessages
+mplaybackofflineimapops
+playbackofflineimapoperations
+mcuroperation
+egoingonline
+mcurstate
+enostate
+setwindow
+amsgwindow
+setonlinestate
+prtrue
+msendunsentmessages
+playbackofflineimapoperations
+nsok
+advancetonextstate
+nsok
+nsok
+nsimethodimp
+nsmsgofflinemanager
+synchronizeforoffline
+prbool
+downloadnews
+prbool
+downloadmail
+prbool
+sendunsentmessages
+prbool
+goofflinewhendone
+nsimsgwindow
+amsgwindow
+mcuroperation
+edownloadingforoffline
+mdownloadnews
+downloadnews
+mdownloadmail
+downloadmail
+msendunsentmessages
+sendunsentmessages
+setwindow
+amsgwindow
+mgoofflinewhendone
+goofflinewhendone
+mcurstate
+enostate
+downloadnews
+downloadmail
+sendunsentmessages
+goofflinewhendone
+setonlinestate
+prfalse
+advancetonextstate
+nsok
+nsok
+nsresult
+nsmsgofflinemanager
+setonlinestate
+prbool
+online
+nsresult
+rv
+nscomptr
+nsiioservice
+netservice
+dogetservice
+kioservicecid
+rv
+nssucceeded
+rv
+netservice
+rv
+netservice
+setoffline
+online
+rv
+nsimethodimp
+nsmsgofflinemanager
+onstartrunningurl
+nsiuri
+aurl
+nsok
+nsimethodimp
+nsmsgofflinemanager
+onstoprunningurl
+nsiuri
+aurl
+nsresult
+aexitcode
+mofflineimapsync
+nsnull
+advancetonextstate
+aexitcode
+nsok
+nsimethodimp
+nsmsgofflinemanager
+observe
+nsisupports
+asubject
+atopic
+prunichar
+somedata
+nsok
+nsimethodimp
+nsmsgofflinemanager
+onstartsending
+pruint
+atotalmessagecount
+nsok
+nsimethodimp
+nsmsgofflinemanager
+onprogress
+pruint
+acurrentmessage
+pruint
+atotalmessage
+mstatusfeedback
+atotalmessage
+mstatusfeedback
+showprogress
+acurrentmessage
+atotalmessage
+nsok
+nsimethodimp
+nsmsgofflinemanager
+onstatus
+prunichar
+amsg
+mstatusfeedback
+amsg
+mstatusfeedback
+showstatusstring
+amsg
+nsok
+nsimethodimp
+nsmsgofflinemanager
+onstopsending
+nsresult
+astatus
+prunichar
+amsg
+pruint
+atotaltried
+pruint
+asuccessful
+ifdef
+nsdebug
+nssucceeded
+astatus
+printf
+sendlaterlistener
+onstopsending
+tried
+to
+send
+messages
+successful
+atotaltried
+asuccessful
+endif
+advancetonextstate
+astatus
\ No newline at end of file
@@ -0,0 +1,188 @@
+nsmsgrdfutils
+nsiservicemanager
+prprf
+nscomptr
+nsmemory
+nsresult
+createnode
+prunichar
+str
+nsirdfnode
+node
+nsirdfservice
+rdfservice
+nsresult
+rv
+nscomptr
+nsirdfliteral
+value
+nsassertion
+rdfservice
+rdfservice
+is
+rdfservice
+nsok
+str
+rv
+rdfservice
+getliteral
+str
+getteraddrefs
+value
+rv
+rdfservice
+getliteral
+nsliteralstring
+get
+getteraddrefs
+value
+nssucceeded
+rv
+node
+value
+nsifaddref
+node
+rv
+nsresult
+createdatenode
+prtime
+time
+nsirdfnode
+node
+nsirdfservice
+rdfservice
+node
+nsnull
+nsresult
+rv
+rdfservice
+nserrornullpointer
+nscomptr
+nsirdfdate
+date
+rv
+rdfservice
+getdateliteral
+time
+getteraddrefs
+date
+nssucceeded
+rv
+node
+date
+nsifaddref
+node
+rv
+nsresult
+createintnode
+print
+value
+nsirdfnode
+node
+nsirdfservice
+rdfservice
+node
+nsnull
+nsresult
+rv
+rdfservice
+nserrornullpointer
+nscomptr
+nsirdfint
+num
+rv
+rdfservice
+getintliteral
+value
+getteraddrefs
+num
+nssucceeded
+rv
+node
+num
+nsifaddref
+node
+rv
+nsresult
+createblobnode
+pruint
+value
+pruint
+length
+nsirdfnode
+node
+nsirdfservice
+rdfservice
+nsensureargpointer
+node
+nsensureargpointer
+rdfservice
+node
+nsnull
+nscomptr
+nsirdfblob
+blob
+nsresult
+rv
+rdfservice
+getblobliteral
+value
+length
+getteraddrefs
+blob
+nsensuresuccess
+rv
+rv
+nsifaddref
+node
+blob
+rv
+nsresult
+gettargethasassertion
+nsirdfdatasource
+datasource
+nsirdfresource
+folderresource
+nsirdfresource
+property
+prbool
+tv
+nsirdfnode
+target
+prbool
+hasassertion
+nsresult
+rv
+hasassertion
+nserrornullpointer
+nscomptr
+nsirdfnode
+currenttarget
+rv
+datasource
+gettarget
+folderresource
+property
+tv
+getteraddrefs
+currenttarget
+nssucceeded
+rv
+nscomptr
+nsirdfliteral
+value
+doqueryinterface
+target
+nscomptr
+nsirdfliteral
+value
+doqueryinterface
+currenttarget
+value
+value
+hasassertion
+value
+value
+rv
+nsnointerface
+rv
\ No newline at end of file
@@ -0,0 +1,815 @@
+msgcore
+nsmsgsearchdbview
+nsimsghdr
+nsimsgthread
+nsquicksort
+nsidbfolderinfo
+nsxpidlstring
+nsmsgbasecid
+nsimsgcopyservice
+nsicopymsgstreamlistener
+nsmsgutils
+nsmsgsearchdbview
+nsmsgsearchdbview
+msuppressmsgdisplay
+prtrue
+nsmsgsearchdbview
+nsmsgsearchdbview
+nsimplisupportsinherited
+nsmsgsearchdbview
+nsmsgdbview
+nsimsgdbview
+nsimsgcopyservicelistener
+nsimsgsearchnotify
+nsimethodimp
+nsmsgsearchdbview
+open
+nsimsgfolder
+folder
+nsmsgviewsorttypevalue
+sorttype
+nsmsgviewsortordervalue
+sortorder
+nsmsgviewflagstypevalue
+viewflags
+prbool
+atreatrecipientasauthor
+print
+pcount
+nsresult
+rv
+mfolders
+docreateinstance
+nssupportsarraycontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+nsmsgdbview
+open
+folder
+sorttype
+sortorder
+viewflags
+atreatrecipientasauthor
+pcount
+nsensuresuccess
+rv
+rv
+pcount
+pcount
+rv
+nsimethodimp
+nsmsgsearchdbview
+close
+print
+count
+mdbtouselist
+count
+print
+count
+mdbtouselist
+removelistener
+nsok
+nsimethodimp
+nsmsgsearchdbview
+getcelltext
+print
+arow
+prunichar
+acolid
+nsastring
+avalue
+acolid
+acolid
+nsxpidlstring
+valuetext
+nsresult
+rv
+fetchlocation
+arow
+gettercopies
+valuetext
+avalue
+assign
+valuetext
+rv
+nsmsgdbview
+getcelltext
+arow
+acolid
+avalue
+nsresult
+nsmsgsearchdbview
+fetchlocation
+print
+arow
+prunichar
+alocationstring
+nscomptr
+nsimsgfolder
+folder
+nsresult
+rv
+getfolderforviewindex
+arow
+getteraddrefs
+folder
+nsensuresuccess
+rv
+rv
+rv
+folder
+getprettiestname
+alocationstring
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsmsgsearchdbview
+onnewheader
+nsmsgkey
+newkey
+nsmsgkey
+aparentkey
+prbool
+nsok
+nsresult
+nsmsgsearchdbview
+getmsghdrforviewindex
+nsmsgviewindex
+index
+nsimsgdbhdr
+msghdr
+nsresult
+rv
+nsmsginvaliddbviewindex
+nscomptr
+nsimsgfolder
+folder
+doqueryelementat
+mfolders
+index
+folder
+nscomptr
+nsimsgdatabase
+db
+rv
+folder
+getmsgdatabase
+mmsgwindow
+getteraddrefs
+db
+nsensuresuccess
+rv
+rv
+db
+rv
+db
+getmsghdrforkey
+mkeys
+getat
+index
+msghdr
+rv
+nsimethodimp
+nsmsgsearchdbview
+getfolderforviewindex
+nsmsgviewindex
+index
+nsimsgfolder
+afolder
+mfolders
+queryelementat
+index
+nsgetiid
+nsimsgfolder
+afolder
+nsresult
+nsmsgsearchdbview
+getdbforviewindex
+nsmsgviewindex
+index
+nsimsgdatabase
+db
+nscomptr
+nsimsgfolder
+afolder
+getfolderforviewindex
+index
+getteraddrefs
+afolder
+afolder
+afolder
+getmsgdatabase
+nsnull
+db
+nsmsginvaliddbviewindex
+nsimethodimp
+nsmsgsearchdbview
+onsearchhit
+nsimsgdbhdr
+amsghdr
+nsimsgfolder
+folder
+nsensurearg
+amsghdr
+nsensurearg
+folder
+nscomptr
+nsisupports
+supports
+doqueryinterface
+folder
+mfolders
+indexof
+supports
+nscomptr
+nsimsgdatabase
+dbtouse
+nscomptr
+nsidbfolderinfo
+folderinfo
+folder
+getdbfolderinfoanddb
+getteraddrefs
+folderinfo
+getteraddrefs
+dbtouse
+dbtouse
+dbtouse
+addlistener
+mdbtouselist
+appendobject
+dbtouse
+mfolders
+appendelement
+supports
+nsmsgkey
+msgkey
+pruint
+msgflags
+amsghdr
+getmessagekey
+msgkey
+amsghdr
+getflags
+msgflags
+mkeys
+add
+msgkey
+mlevels
+add
+mflags
+add
+msgflags
+mtree
+mtree
+rowcountchanged
+getsize
+nsok
+nsimethodimp
+nsmsgsearchdbview
+onsearchdone
+nsresult
+status
+mdeletemodel
+nsmsgimapdeletemodels
+movetotrash
+nscomptr
+nsimsgfolder
+curfolder
+doqueryelementat
+mfolders
+curfolder
+getimapdeletemodel
+curfolder
+nsok
+nsimethodimp
+nsmsgsearchdbview
+onnewsearch
+print
+oldsize
+getsize
+print
+count
+mdbtouselist
+count
+print
+count
+mdbtouselist
+removelistener
+mdbtouselist
+clear
+mfolders
+clear
+mkeys
+removeall
+mlevels
+removeall
+mflags
+removeall
+mtree
+mtree
+rowcountchanged
+oldsize
+nsok
+nsresult
+nsmsgsearchdbview
+getfolders
+nsisupportsarray
+afolders
+nsensureargpointer
+afolders
+nsifaddref
+afolders
+mfolders
+nsok
+nsimethodimp
+nsmsgsearchdbview
+docommandwithfolder
+nsmsgviewcommandtypevalue
+command
+nsimsgfolder
+destfolder
+mcommand
+command
+mdestfolder
+getteraddrefs
+destfolder
+nsmsgdbview
+docommandwithfolder
+command
+destfolder
+nsimethodimp
+nsmsgsearchdbview
+docommand
+nsmsgviewcommandtypevalue
+command
+mcommand
+command
+nsmsgdbview
+docommand
+command
+nsresult
+nsmsgsearchdbview
+removebyindex
+nsmsgviewindex
+index
+isvalidindex
+index
+nsmsginvaliddbviewindex
+mfolders
+removeelementat
+index
+nsmsgdbview
+removebyindex
+index
+nsresult
+nsmsgsearchdbview
+deletemessages
+nsimsgwindow
+window
+nsmsgviewindex
+indices
+print
+numindices
+prbool
+deletestorage
+nsresult
+rv
+initializeglobalsfordeleteandfile
+indices
+numindices
+mdeletemodel
+nsmsgimapdeletemodels
+movetotrash
+deletestorage
+prtrue
+deletestorage
+rv
+processrequestsinonefolder
+window
+rv
+processrequestsinallfolders
+window
+rv
+nsresult
+nsmsgsearchdbview
+copymessages
+nsimsgwindow
+window
+nsmsgviewindex
+indices
+print
+numindices
+prbool
+ismove
+nsimsgfolder
+destfolder
+nsresult
+rv
+initializeglobalsfordeleteandfile
+indices
+numindices
+rv
+processrequestsinonefolder
+window
+rv
+nsresult
+nsmsgsearchdbview
+initializeglobalsfordeleteandfile
+nsmsgviewindex
+indices
+print
+numindices
+nsresult
+rv
+nsok
+mcurindex
+muniquefoldersselected
+muniquefoldersselected
+docreateinstance
+nssupportsarraycontractid
+rv
+nsensuresuccess
+rv
+rv
+muniquefoldersselected
+clear
+mhdrsforeachfolder
+mhdrsforeachfolder
+docreateinstance
+nssupportsarraycontractid
+rv
+nsensuresuccess
+rv
+rv
+mhdrsforeachfolder
+clear
+nsmsgviewindex
+nsmsgviewindex
+numindices
+nscomptr
+nsisupports
+cursupports
+getteraddrefs
+mfolders
+elementat
+indices
+muniquefoldersselected
+indexof
+cursupports
+muniquefoldersselected
+appendelement
+cursupports
+pruint
+numfolders
+rv
+muniquefoldersselected
+count
+numfolders
+nsensuresuccess
+rv
+rv
+pruint
+folderindex
+folderindex
+numfolders
+folderindex
+nscomptr
+nsimsgfolder
+curfolder
+doqueryelementat
+muniquefoldersselected
+folderindex
+rv
+nscomptr
+nsisupportsarray
+msghdrsforonefolder
+nsnewisupportsarray
+getteraddrefs
+msghdrsforonefolder
+nsmsgviewindex
+nsmsgviewindex
+numindices
+nscomptr
+nsimsgfolder
+msgfolder
+doqueryelementat
+mfolders
+indices
+rv
+nssucceeded
+rv
+msgfolder
+msgfolder
+curfolder
+nscomptr
+nsimsgdbhdr
+msghdr
+rv
+getmsghdrforviewindex
+indices
+getteraddrefs
+msghdr
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupports
+hdrsupports
+doqueryinterface
+msghdr
+msghdrsforonefolder
+appendelement
+hdrsupports
+nscomptr
+nsisupports
+supports
+doqueryinterface
+msghdrsforonefolder
+rv
+nssucceeded
+rv
+supports
+mhdrsforeachfolder
+appendelement
+supports
+rv
+nsimethodimp
+nsmsgsearchdbview
+onstartcopy
+nsok
+nsimethodimp
+nsmsgsearchdbview
+onprogress
+pruint
+aprogress
+pruint
+aprogressmax
+nsok
+nsimethodimp
+nsmsgsearchdbview
+setmessagekey
+pruint
+amessagekey
+nsok
+nsimethodimp
+nsmsgsearchdbview
+getmessageid
+nscstring
+amessageid
+nsok
+nsimethodimp
+nsmsgsearchdbview
+onstopcopy
+nsresult
+astatus
+nsresult
+rv
+nsok
+nssucceeded
+astatus
+mcurindex
+pruint
+numfolders
+rv
+muniquefoldersselected
+count
+numfolders
+mcurindex
+numfolders
+processrequestsinonefolder
+mmsgwindow
+rv
+nsresult
+nsmsgsearchdbview
+processrequestsinonefolder
+nsimsgwindow
+window
+nsresult
+rv
+nsok
+nscomptr
+nsimsgfolder
+curfolder
+doqueryelementat
+muniquefoldersselected
+mcurindex
+nsassertion
+curfolder
+curfolder
+is
+nscomptr
+nsisupportsarray
+messagearray
+doqueryelementat
+mhdrsforeachfolder
+mcurindex
+nsassertion
+messagearray
+messagearray
+is
+mcommand
+nsmsgviewcommandtype
+deletemsg
+curfolder
+deletemessages
+messagearray
+window
+prfalse
+prfalse
+prfalse
+nsassertion
+curfolder
+mdestfolder
+the
+source
+folder
+the
+destination
+folder
+are
+the
+same
+nssucceeded
+rv
+curfolder
+mdestfolder
+nscomptr
+nsimsgcopyservice
+copyservice
+dogetservice
+nsmsgcopyservicecontractid
+rv
+nssucceeded
+rv
+mcommand
+nsmsgviewcommandtype
+movemessages
+copyservice
+copymessages
+curfolder
+messagearray
+mdestfolder
+prtrue
+window
+prfalse
+mcommand
+nsmsgviewcommandtype
+copymessages
+copyservice
+copymessages
+curfolder
+messagearray
+mdestfolder
+prfalse
+window
+prfalse
+rv
+nsresult
+nsmsgsearchdbview
+processrequestsinallfolders
+nsimsgwindow
+window
+pruint
+numfolders
+nsresult
+rv
+muniquefoldersselected
+count
+numfolders
+nsensuresuccess
+rv
+rv
+pruint
+folderindex
+folderindex
+numfolders
+folderindex
+nscomptr
+nsimsgfolder
+curfolder
+doqueryelementat
+muniquefoldersselected
+folderindex
+nsassertion
+curfolder
+curfolder
+is
+nscomptr
+nsisupportsarray
+messagearray
+doqueryelementat
+mhdrsforeachfolder
+folderindex
+nsassertion
+messagearray
+messagearray
+is
+curfolder
+deletemessages
+messagearray
+window
+prtrue
+prfalse
+nsnull
+prfalse
+nsok
+nsimethodimp
+nsmsgsearchdbview
+sort
+nsmsgviewsorttypevalue
+sorttype
+nsmsgviewsortordervalue
+sortorder
+nsresult
+rv
+print
+rowcountbeforesort
+getsize
+rowcountbeforesort
+nsok
+nsmsgkeyarray
+preservedselection
+saveandclearselection
+preservedselection
+rv
+nsmsgdbview
+sort
+sorttype
+sortorder
+rv
+adjustrowcount
+rowcountbeforesort
+getsize
+restoreselection
+preservedselection
+mtree
+mtree
+invalidate
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsmsgsearchdbview
+gethdrforfirstselectedmessage
+nsimsgdbhdr
+hdr
+nsensureargpointer
+hdr
+print
+index
+nsresult
+rv
+mtreeselection
+getcurrentindex
+index
+nsensuresuccess
+rv
+rv
+rv
+getmsghdrforviewindex
+index
+hdr
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsmsgsearchdbview
+getfolderfrommsguri
+amsguri
+nsimsgfolder
+afolder
+nscomptr
+nsimsgmessageservice
+msgmessageservice
+nsresult
+rv
+getmessageservicefromuri
+amsguri
+getteraddrefs
+msgmessageservice
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgdbhdr
+msghdr
+rv
+msgmessageservice
+messageuritomsghdr
+amsguri
+getteraddrefs
+msghdr
+nsensuresuccess
+rv
+rv
+msghdr
+getfolder
+afolder
\ No newline at end of file
@@ -0,0 +1,217 @@
+nsmsgserviceprovider
+nsiservicemanager
+nsxpidlstring
+nsrdfcid
+nsirdfservice
+nsirdfremotedatasource
+nsifilechannel
+nsifilespec
+nsnetutil
+nsimsgmailsession
+nsmsgbasecid
+nsdefinecid
+krdfservicecid
+nsrdfservicecid
+nsdefinecid
+krdfcompositedatasourcecid
+nsrdfcompositedatasourcecid
+nsdefinecid
+krdfxmldatasourcecid
+nsrdfxmldatasourcecid
+nsmsgserviceproviderservice
+nsmsgserviceproviderservice
+nsmsgserviceproviderservice
+nsmsgserviceproviderservice
+nsimplisupports
+nsmsgserviceproviderservice
+nsirdfdatasource
+nsresult
+nsmsgserviceproviderservice
+init
+nsresult
+rv
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+krdfservicecid
+rv
+nsensuresuccess
+rv
+rv
+minnerdatasource
+docreateinstance
+krdfcompositedatasourcecid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgmailsession
+mailsession
+dogetservice
+nsmsgmailsessioncontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsifile
+datafilesdir
+rv
+mailsession
+getdatafilesdir
+isp
+getteraddrefs
+datafilesdir
+nsensuresuccess
+rv
+rv
+prbool
+isexists
+prfalse
+rv
+datafilesdir
+exists
+isexists
+nsensuresuccess
+rv
+rv
+isexists
+prbool
+hasmore
+prfalse
+nscomptr
+nsisimpleenumerator
+diriterator
+rv
+datafilesdir
+getdirectoryentries
+getteraddrefs
+diriterator
+nsfailed
+rv
+rv
+nscomptr
+nsifile
+direntry
+rv
+diriterator
+hasmoreelements
+hasmore
+nsok
+hasmore
+rv
+diriterator
+getnext
+nsisupports
+getteraddrefs
+direntry
+nsfailed
+rv
+nscautostring
+urlspec
+rv
+nsgeturlspecfromfile
+direntry
+urlspec
+rv
+loaddatasource
+urlspec
+get
+nsassertion
+nssucceeded
+rv
+failed
+reading
+in
+the
+datasource
+nsok
+nsresult
+nsmsgserviceproviderservice
+loaddatasource
+auri
+nsresult
+rv
+nscomptr
+nsirdfdatasource
+ds
+docreateinstance
+krdfxmldatasourcecid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfremotedatasource
+remote
+doqueryinterface
+ds
+rv
+nsensuresuccess
+rv
+rv
+rv
+remote
+init
+auri
+nsensuresuccess
+rv
+rv
+ifdef
+debugalecf
+prbool
+loaded
+rv
+remote
+getloaded
+loaded
+nsassertion
+nssucceeded
+rv
+failed
+getload
+printf
+before
+refresh
+datasource
+is
+loaded
+loaded
+loaded
+endif
+rv
+remote
+refresh
+prtrue
+nsassertion
+nssucceeded
+rv
+failed
+refresh
+ifdef
+debugalecf
+rv
+remote
+getloaded
+loaded
+nsassertion
+nssucceeded
+rv
+failed
+getload
+printf
+after
+refresh
+datasource
+is
+loaded
+loaded
+loaded
+endif
+rv
+minnerdatasource
+adddatasource
+ds
+rv
\ No newline at end of file
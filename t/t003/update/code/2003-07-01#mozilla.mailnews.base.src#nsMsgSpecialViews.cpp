@@ -0,0 +1,266 @@
+msgcore
+nsmsgspecialviews
+nsimsgthread
+nsmsgthreadswithunreaddbview
+nsmsgthreadswithunreaddbview
+nsmsgthreadswithunreaddbview
+nsmsgthreadswithunreaddbview
+nsimethodimp
+nsmsgthreadswithunreaddbview
+open
+nsimsgfolder
+folder
+nsmsgviewsorttypevalue
+sorttype
+nsmsgviewsortordervalue
+sortorder
+nsmsgviewflagstypevalue
+viewflags
+prbool
+atreatrecipientasauthor
+print
+pcount
+nsmsgthreadeddbview
+open
+folder
+sorttype
+sortorder
+viewflags
+atreatrecipientasauthor
+pcount
+nsimethodimp
+nsmsgthreadswithunreaddbview
+getviewtype
+nsmsgviewtypevalue
+aviewtype
+nsensureargpointer
+aviewtype
+aviewtype
+nsmsgviewtype
+eshowthreadswithunread
+nsok
+prbool
+nsmsgthreadswithunreaddbview
+wantsthisthread
+nsimsgthread
+threadhdr
+threadhdr
+pruint
+numnewchildren
+threadhdr
+getnumunreadchildren
+numnewchildren
+numnewchildren
+prtrue
+prfalse
+nsresult
+nsmsgthreadswithunreaddbview
+addmsgtothreadnotinview
+nsimsgthread
+threadhdr
+nsimsgdbhdr
+msghdr
+prbool
+ensurelisted
+nsresult
+rv
+nsok
+nscomptr
+nsimsgdbhdr
+parenthdr
+pruint
+msgflags
+msghdr
+getflags
+msgflags
+getfirstmessagehdrtodisplayinthread
+threadhdr
+getteraddrefs
+parenthdr
+parenthdr
+ensurelisted
+msgflags
+msgflagread
+nsmsgkey
+key
+pruint
+nummsgsinthread
+rv
+addhdr
+parenthdr
+threadhdr
+getnumchildren
+nummsgsinthread
+nummsgsinthread
+parenthdr
+getmessagekey
+key
+nsmsgviewindex
+viewindex
+findviewindex
+key
+viewindex
+nsmsgviewindexnone
+orextraflag
+viewindex
+msgflagelided
+msgviewflaghaschildren
+rv
+nsimethodimp
+nsmsgthreadswithunreaddbview
+clonedbview
+nsimessenger
+amessengerinstance
+nsimsgwindow
+amsgwindow
+nsimsgdbviewcommandupdater
+acmdupdater
+nsimsgdbview
+retval
+nsmsgthreadswithunreaddbview
+newmsgdbview
+nsnewxpcom
+newmsgdbview
+nsmsgthreadswithunreaddbview
+newmsgdbview
+nserroroutofmemory
+nsresult
+rv
+copydbview
+newmsgdbview
+amessengerinstance
+amsgwindow
+acmdupdater
+nsensuresuccess
+rv
+rv
+nsifaddref
+retval
+newmsgdbview
+nsok
+nsimethodimp
+nsmsgwatchedthreadswithunreaddbview
+getviewtype
+nsmsgviewtypevalue
+aviewtype
+nsensureargpointer
+aviewtype
+aviewtype
+nsmsgviewtype
+eshowwatchedthreadswithunread
+nsok
+prbool
+nsmsgwatchedthreadswithunreaddbview
+wantsthisthread
+nsimsgthread
+threadhdr
+threadhdr
+pruint
+numnewchildren
+pruint
+threadflags
+threadhdr
+getnumunreadchildren
+numnewchildren
+threadhdr
+getflags
+threadflags
+numnewchildren
+threadflags
+msgflagwatched
+prtrue
+prfalse
+nsresult
+nsmsgwatchedthreadswithunreaddbview
+addmsgtothreadnotinview
+nsimsgthread
+threadhdr
+nsimsgdbhdr
+msghdr
+prbool
+ensurelisted
+nsresult
+rv
+nsok
+pruint
+threadflags
+pruint
+msgflags
+msghdr
+getflags
+msgflags
+threadhdr
+getflags
+threadflags
+threadflags
+msgflagwatched
+nscomptr
+nsimsgdbhdr
+parenthdr
+getfirstmessagehdrtodisplayinthread
+threadhdr
+getteraddrefs
+parenthdr
+parenthdr
+ensurelisted
+msgflags
+msgflagread
+pruint
+numchildren
+threadhdr
+getnumchildren
+numchildren
+rv
+addhdr
+parenthdr
+numchildren
+nsmsgkey
+key
+parenthdr
+getmessagekey
+key
+nsmsgviewindex
+viewindex
+findviewindex
+key
+viewindex
+nsmsgviewindexnone
+orextraflag
+viewindex
+msgflagelided
+msgviewflagisthread
+msgviewflaghaschildren
+msgflagwatched
+rv
+nsimethodimp
+nsmsgwatchedthreadswithunreaddbview
+clonedbview
+nsimessenger
+amessengerinstance
+nsimsgwindow
+amsgwindow
+nsimsgdbviewcommandupdater
+acmdupdater
+nsimsgdbview
+retval
+nsmsgwatchedthreadswithunreaddbview
+newmsgdbview
+nsnewxpcom
+newmsgdbview
+nsmsgwatchedthreadswithunreaddbview
+newmsgdbview
+nserroroutofmemory
+nsresult
+rv
+copydbview
+newmsgdbview
+amessengerinstance
+amsgwindow
+acmdupdater
+nsensuresuccess
+rv
+rv
+nsifaddref
+retval
+newmsgdbview
+nsok
\ No newline at end of file
@@ -0,0 +1,1242 @@
+msgcore
+nsmsgthreadeddbview
+nsimsghdr
+nsimsgthread
+nsidbfolderinfo
+nsimsgsearchsession
+define
+msghdrcachelookaheadsize
+define
+msghdrcachemaxsize
+nsmsgthreadeddbview
+nsmsgthreadeddbview
+mhaveprevview
+prfalse
+nsmsgthreadeddbview
+nsmsgthreadeddbview
+nsimethodimp
+nsmsgthreadeddbview
+open
+nsimsgfolder
+folder
+nsmsgviewsorttypevalue
+sorttype
+nsmsgviewsortordervalue
+sortorder
+nsmsgviewflagstypevalue
+viewflags
+prbool
+atreatrecipientasauthor
+print
+pcount
+nsresult
+rv
+nsmsgdbview
+open
+folder
+sorttype
+sortorder
+viewflags
+atreatrecipientasauthor
+pcount
+nsensuresuccess
+rv
+rv
+mdb
+print
+totalmessages
+unreadmessages
+nscomptr
+nsidbfolderinfo
+dbfolderinfo
+rv
+mdb
+getdbfolderinfo
+getteraddrefs
+dbfolderinfo
+nsensuresuccess
+rv
+rv
+mviewflags
+nsmsgviewflagstype
+kunreadonly
+dbfolderinfo
+getnumnewmessages
+unreadmessages
+totalmessages
+pruint
+unreadmessages
+msghdrcachelookaheadsize
+dbfolderinfo
+getnummessages
+totalmessages
+totalmessages
+msghdrcachemaxsize
+totalmessages
+msghdrcachemaxsize
+totalmessages
+totalmessages
+msghdrcachelookaheadsize
+totalmessages
+mdb
+setmsghdrcachesize
+pruint
+totalmessages
+pcount
+pcount
+initthreadedview
+pcount
+nsimethodimp
+nsmsgthreadeddbview
+close
+nsmsgdbview
+close
+nsresult
+nsmsgthreadeddbview
+initthreadedview
+print
+pcount
+nsresult
+rv
+mkeys
+removeall
+mflags
+removeall
+mlevels
+removeall
+mprevkeys
+removeall
+mprevflags
+removeall
+mprevlevels
+removeall
+mhaveprevview
+prfalse
+nsresult
+getsortrv
+nsok
+nsmsgkey
+startmsg
+print
+kidchunksize
+print
+numlisted
+nsmsgkey
+idarray
+kidchunksize
+print
+flagarray
+kidchunksize
+levelarray
+kidchunksize
+rv
+listthreadids
+startmsg
+mviewflags
+nsmsgviewflagstype
+kunreadonly
+idarray
+flagarray
+levelarray
+kidchunksize
+numlisted
+nsnull
+nssucceeded
+rv
+print
+numadded
+addkeys
+idarray
+flagarray
+levelarray
+msorttype
+numlisted
+pcount
+pcount
+numadded
+nssucceeded
+rv
+startmsg
+nsmsgkeynone
+nssucceeded
+getsortrv
+rv
+initsort
+msorttype
+msortorder
+rv
+nsresult
+nsmsgthreadeddbview
+addkeys
+nsmsgkey
+pkeys
+print
+pflags
+plevels
+nsmsgviewsorttypevalue
+sorttype
+print
+numkeystoadd
+print
+numadded
+mkeys
+allocatespace
+numkeystoadd
+mkeys
+getsize
+mflags
+allocatespace
+numkeystoadd
+mflags
+getsize
+mlevels
+allocatespace
+numkeystoadd
+mlevels
+getsize
+print
+numkeystoadd
+print
+threadflag
+pflags
+print
+flag
+threadflag
+threadflag
+msgflagignored
+mviewflags
+nsmsgviewflagstype
+kshowignored
+flag
+msgviewflaghaschildren
+flag
+msgflagelided
+flag
+msgviewflagisthread
+mkeys
+add
+pkeys
+mflags
+add
+flag
+mlevels
+add
+plevels
+numadded
+sorttype
+nsmsgviewsorttype
+bythread
+flag
+msgflagelided
+expandbyindex
+mkeys
+getsize
+numadded
+nsimethodimp
+nsmsgthreadeddbview
+sort
+nsmsgviewsorttypevalue
+sorttype
+nsmsgviewsortordervalue
+sortorder
+nsresult
+rv
+print
+rowcountbeforesort
+getsize
+rowcountbeforesort
+msorttype
+sorttype
+sorttype
+nsmsgviewsorttype
+bythread
+mviewflags
+nsmsgviewflagstype
+kthreadeddisplay
+mviewflags
+nsmsgviewflagstype
+kthreadeddisplay
+savesortinfo
+sorttype
+sortorder
+nsok
+nsmsgkeyarray
+preservedselection
+saveandclearselection
+preservedselection
+sorttype
+msorttype
+msortvalid
+sorttype
+nsmsgviewsorttype
+bythread
+savesortinfo
+sorttype
+sortorder
+msorttype
+sorttype
+mviewflags
+nsmsgviewflagstype
+kthreadeddisplay
+mhaveprevview
+mkeys
+removeall
+mkeys
+insertat
+mprevkeys
+mflags
+removeall
+mflags
+insertat
+mprevflags
+mlevels
+removeall
+mlevels
+insertat
+mprevlevels
+msortvalid
+prtrue
+rv
+adjustrowcount
+rowcountbeforesort
+getsize
+restoreselection
+preservedselection
+mtree
+mtree
+invalidate
+nsok
+initthreadedview
+nsnull
+sortorder
+nsmsgviewsortorder
+ascending
+sort
+sorttype
+sortorder
+rv
+adjustrowcount
+rowcountbeforesort
+getsize
+restoreselection
+preservedselection
+mtree
+mtree
+invalidate
+nsok
+sorttype
+nsmsgviewsorttype
+bythread
+msorttype
+nsmsgviewsorttype
+bythread
+mprevkeys
+removeall
+mprevkeys
+insertat
+mkeys
+mprevflags
+removeall
+mprevflags
+insertat
+mflags
+mprevlevels
+removeall
+mprevlevels
+insertat
+mlevels
+mviewflags
+nsmsgviewflagstype
+kthreadeddisplay
+expandall
+mhaveprevview
+prtrue
+rv
+nsmsgdbview
+sort
+sorttype
+sortorder
+savesortinfo
+sorttype
+sortorder
+rv
+adjustrowcount
+rowcountbeforesort
+getsize
+restoreselection
+preservedselection
+mtree
+mtree
+invalidate
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsmsgthreadeddbview
+listthreadids
+nsmsgkey
+startmsg
+prbool
+unreadonly
+nsmsgkey
+poutput
+print
+pflags
+plevels
+print
+numtolist
+print
+pnumlisted
+print
+ptotalheaders
+nsresult
+rv
+nsok
+print
+numlisted
+startmsg
+nsassertion
+mthreadenumerator
+nsnull
+where
+our
+iterator
+nsassertion
+mdb
+no
+db
+mdb
+nserrorunexpected
+rv
+mdb
+enumeratethreads
+getteraddrefs
+mthreadenumerator
+nsensuresuccess
+rv
+rv
+prbool
+hasmore
+prfalse
+nscomptr
+nsimsgthread
+threadhdr
+print
+threadsremoved
+numlisted
+numlisted
+numtolist
+nssucceeded
+rv
+mthreadenumerator
+hasmoreelements
+hasmore
+hasmore
+prtrue
+nscomptr
+nsisupports
+supports
+rv
+mthreadenumerator
+getnext
+getteraddrefs
+supports
+nsfailed
+rv
+threadhdr
+nsnull
+threadhdr
+doqueryinterface
+supports
+threadhdr
+nscomptr
+nsimsgdbhdr
+msghdr
+pruint
+numchildren
+unreadonly
+threadhdr
+getnumunreadchildren
+numchildren
+threadhdr
+getnumchildren
+numchildren
+pruint
+threadflags
+threadhdr
+getflags
+threadflags
+numchildren
+print
+unusedrootindex
+ptotalheaders
+ptotalheaders
+numchildren
+unreadonly
+rv
+threadhdr
+getfirstunreadchild
+getteraddrefs
+msghdr
+rv
+threadhdr
+getroothdr
+unusedrootindex
+getteraddrefs
+msghdr
+nssucceeded
+rv
+msghdr
+nsnull
+wantsthisthread
+threadhdr
+pruint
+msgflags
+pruint
+newmsgflags
+nsmsgkey
+msgkey
+msghdr
+getmessagekey
+msgkey
+msghdr
+getflags
+msgflags
+msgflags
+msgviewflags
+poutput
+numlisted
+msgkey
+plevels
+numlisted
+msghdr
+orflags
+threadflags
+msgflagwatched
+msgflagignored
+newmsgflags
+adjustreadflag
+msghdr
+msgflags
+pflags
+numlisted
+msgflags
+msgviewflagisthread
+threadflags
+numchildren
+pflags
+numlisted
+msgviewflaghaschildren
+numlisted
+nsassertion
+nssucceeded
+rv
+msghdr
+couldn
+get
+header
+some
+reason
+threadsremoved
+threadflags
+msgflagwatched
+msgflagignored
+threadsremoved
+ifdef
+debugbienvenu
+printf
+removing
+empty
+non
+ignored
+non
+watched
+thread
+endif
+hasmore
+threadhdr
+threadhdr
+getthreadkey
+startmsg
+startmsg
+nsmsgkeynone
+mthreadenumerator
+nsnull
+pnumlisted
+numlisted
+rv
+nsresult
+nsmsgthreadeddbview
+expandall
+nsresult
+rv
+nsok
+pruint
+mkeys
+getsize
+pruint
+numexpanded
+pruint
+flags
+mflags
+flags
+msgviewflaghaschildren
+flags
+msgflagelided
+rv
+expandbyindex
+numexpanded
+numexpanded
+nsensuresuccess
+rv
+rv
+rv
+nsmsgthreadeddbview
+onextraflagchanged
+nsmsgviewindex
+index
+pruint
+extraflag
+isvalidindex
+index
+mhaveprevview
+nsmsgkey
+keychanged
+mkeys
+index
+nsmsgviewindex
+prevviewindex
+mprevkeys
+findindex
+keychanged
+prevviewindex
+nsmsgviewindexnone
+pruint
+prevflag
+mprevflags
+getat
+prevviewindex
+prevflag
+msgflagelided
+extraflag
+msgflagelided
+extraflag
+msgflagelided
+prevflag
+msgviewflagisthread
+extraflag
+msgviewflagisthread
+extraflag
+msgviewflagisthread
+prevflag
+msgviewflaghaschildren
+extraflag
+msgviewflaghaschildren
+extraflag
+msgviewflaghaschildren
+mprevflags
+setat
+prevviewindex
+extraflag
+msorttype
+nsmsgviewsorttype
+bystatus
+msorttype
+nsmsgviewsorttype
+byflagged
+msorttype
+nsmsgviewsorttype
+byunread
+msorttype
+nsmsgviewsorttype
+bypriority
+msortvalid
+prfalse
+nsmsgthreadeddbview
+onheaderaddedordeleted
+clearprevidarray
+nsmsgthreadeddbview
+clearprevidarray
+mprevkeys
+removeall
+mprevlevels
+removeall
+mprevflags
+removeall
+mhaveprevview
+prfalse
+nsresult
+nsmsgthreadeddbview
+initsort
+nsmsgviewsorttypevalue
+sorttype
+nsmsgviewsortordervalue
+sortorder
+sorttype
+nsmsgviewsorttype
+bythread
+nsmsgdbview
+sort
+nsmsgviewsorttype
+byid
+sortorder
+msorttype
+nsmsgviewsorttype
+bythread
+mviewflags
+nsmsgviewflagstype
+kthreadeddisplay
+mviewflags
+nsmsgviewflagstype
+kthreadeddisplay
+mviewflags
+nsmsgviewflagstype
+kunreadonly
+msorttype
+nsmsgviewsorttype
+bythread
+expandall
+sorttype
+nsmsgviewsorttype
+bythread
+expandall
+sort
+sorttype
+sortorder
+sorttype
+nsmsgviewsorttype
+bythread
+clearprevidarray
+nsok
+nsresult
+nsmsgthreadeddbview
+onnewheader
+nsmsgkey
+newkey
+nsmsgkey
+aparentkey
+prbool
+ensurelisted
+nsresult
+rv
+nscomptr
+nsimsgdbhdr
+msghdr
+rv
+mdb
+getmsghdrforkey
+newkey
+getteraddrefs
+msghdr
+nssucceeded
+rv
+msghdr
+nsnull
+pruint
+msgflags
+msghdr
+getflags
+msgflags
+mviewflags
+nsmsgviewflagstype
+kunreadonly
+ensurelisted
+msgflags
+msgflagread
+nsok
+mviewflags
+nsmsgviewflagstype
+kthreadeddisplay
+rv
+addhdr
+msghdr
+print
+threadcount
+pruint
+threadflags
+nsmsgviewindex
+threadindex
+threadindexofmsg
+newkey
+nsmsgviewindexnone
+threadcount
+threadflags
+threadindex
+nsmsgviewindexnone
+pruint
+flags
+mflags
+threadindex
+print
+level
+findlevelinthread
+msghdr
+threadindex
+flags
+msgflagelided
+threadcount
+mviewflags
+nsmsgviewflagstype
+kunreadonly
+msgflags
+msgflagread
+level
+nsmsgkey
+msgkey
+msghdr
+getmessagekey
+msgkey
+mkeys
+setat
+threadindex
+msgkey
+notechange
+threadindex
+nsmsgviewnotificationcode
+changed
+flags
+msgviewflaghaschildren
+flags
+msgviewflaghaschildren
+msgviewflagisthread
+mviewflags
+nsmsgviewflagstype
+kunreadonly
+flags
+msgflagelided
+mflags
+threadindex
+flags
+notechange
+threadindex
+nsmsgviewnotificationcode
+changed
+flags
+msgflagelided
+pruint
+newflags
+msgflags
+nsmsgviewindex
+insertindex
+getinsertinfofornewhdr
+msghdr
+threadindex
+level
+level
+newflags
+msgviewflagisthread
+msgviewflaghaschildren
+insertindex
+threadindex
+mkeys
+insertat
+insertindex
+newkey
+mflags
+insertat
+insertindex
+newflags
+mlevels
+insertat
+insertindex
+level
+notechange
+threadindex
+nsmsgviewnotificationcode
+changed
+level
+notechange
+insertindex
+nsmsgviewnotificationcode
+insertordelete
+level
+collapsebyindex
+threadindex
+nsnull
+expandbyindex
+threadindex
+nsnull
+nscomptr
+nsimsgthread
+threadhdr
+mdb
+getthreadcontainingmsghdr
+msghdr
+getteraddrefs
+threadhdr
+threadhdr
+addmsgtothreadnotinview
+threadhdr
+msghdr
+ensurelisted
+rv
+nsmsgmessagenotfound
+rv
+nsimethodimp
+nsmsgthreadeddbview
+onparentchanged
+nsmsgkey
+akeychanged
+nsmsgkey
+oldparent
+nsmsgkey
+newparent
+nsidbchangelistener
+ainstigator
+prfalse
+mviewflags
+nsmsgviewflagstype
+kthreadeddisplay
+nsmsgviewindex
+childindex
+findviewindex
+akeychanged
+childindex
+nsmsgviewindexnone
+nsmsgviewindex
+parentindex
+findviewindex
+newparent
+print
+newparentlevel
+parentindex
+nsmsgviewindexnone
+mlevels
+parentindex
+nsmsgviewindex
+oldparentindex
+findviewindex
+oldparent
+print
+oldparentlevel
+oldparentindex
+nsmsgviewindexnone
+newparent
+nsmsgkeynone
+mlevels
+oldparentindex
+print
+levelchanged
+mlevels
+childindex
+print
+parentdelta
+oldparentlevel
+newparentlevel
+mlevels
+childindex
+newparent
+nsmsgkeynone
+newparentlevel
+parentdelta
+nsmsgviewindex
+viewindex
+childindex
+viewindex
+getsize
+mlevels
+viewindex
+levelchanged
+viewindex
+mlevels
+viewindex
+mlevels
+viewindex
+parentdelta
+notechange
+viewindex
+nsmsgviewnotificationcode
+changed
+notechange
+childindex
+nsmsgviewnotificationcode
+changed
+nsok
+nsmsgviewindex
+nsmsgthreadeddbview
+getinsertinfofornewhdr
+nsimsgdbhdr
+newhdr
+nsmsgviewindex
+parentindex
+print
+targetlevel
+print
+viewsize
+getsize
+nsmsgviewindex
+insertindex
+parentindex
+parentindex
+nsmsgviewindexnone
+print
+parentlevel
+mlevels
+parentindex
+nsassertion
+targetlevel
+parentlevel
+levels
+are
+screwed
+up
+print
+insertindex
+viewsize
+mlevels
+insertindex
+parentlevel
+insertindex
+insertindex
+nsresult
+nsmsgthreadeddbview
+addmsgtothreadnotinview
+nsimsgthread
+threadhdr
+nsimsgdbhdr
+msghdr
+prbool
+ensurelisted
+nsresult
+rv
+nsok
+pruint
+threadflags
+threadhdr
+getflags
+threadflags
+threadflags
+msgflagignored
+rv
+addhdr
+msghdr
+rv
+nsresult
+nsmsgthreadeddbview
+removebyindex
+nsmsgviewindex
+index
+nsresult
+rv
+nsok
+print
+flags
+isvalidindex
+index
+nsmsginvaliddbviewindex
+onheaderaddedordeleted
+flags
+mflags
+index
+mviewflags
+nsmsgviewflagstype
+kthreadeddisplay
+nsmsgdbview
+removebyindex
+index
+nscomptr
+nsimsgthread
+threadhdr
+getthreadcontainingindex
+index
+getteraddrefs
+threadhdr
+nsensuresuccess
+rv
+rv
+pruint
+numthreadchildren
+threadhdr
+threadhdr
+getnumchildren
+numthreadchildren
+flags
+msgviewflagisthread
+flags
+msgflagelided
+flags
+msgviewflaghaschildren
+threadhdr
+nsmsgdbview
+removebyindex
+index
+nscomptr
+nsimsgthread
+nextthreadhdr
+numthreadchildren
+nscomptr
+nsimsgdbhdr
+msghdr
+rv
+threadhdr
+getchildhdrat
+getteraddrefs
+msghdr
+msghdr
+nsnull
+pruint
+flag
+msghdr
+getflags
+flag
+numthreadchildren
+flag
+msgviewflagisthread
+msgviewflaghaschildren
+mflags
+setatgrow
+index
+flag
+mlevels
+setatgrow
+index
+rv
+flags
+msgviewflagisthread
+threadhdr
+numthreadchildren
+nsmsgkey
+msgkey
+rv
+threadhdr
+getchildkeyat
+msgkey
+nssucceeded
+rv
+nsmsgviewindex
+threadindex
+findviewindex
+msgkey
+threadindex
+nsmsgviewindexnone
+pruint
+flags
+mflags
+threadindex
+flags
+msgviewflagisthread
+msgflagelided
+msgviewflaghaschildren
+mflags
+threadindex
+flags
+notechange
+threadindex
+nsmsgviewnotificationcode
+changed
+nsmsgdbview
+removebyindex
+index
+threadhdr
+numthreadchildren
+nscomptr
+nsimsgdbhdr
+msghdr
+rv
+threadhdr
+getchildhdrat
+getteraddrefs
+msghdr
+msghdr
+nsnull
+nsmsgkey
+msgkey
+msghdr
+getmessagekey
+msgkey
+mkeys
+setat
+index
+msgkey
+pruint
+flag
+msghdr
+getflags
+flag
+flag
+msgviewflagisthread
+numthreadchildren
+flag
+msgviewflaghaschildren
+flag
+msgflagelided
+notechange
+index
+nsmsgviewnotificationcode
+changed
+flag
+msgviewflaghaschildren
+flag
+msgflagelided
+mflags
+index
+flag
+nsassertion
+prfalse
+couldn
+find
+thread
+child
+notechange
+index
+nsmsgviewnotificationcode
+changed
+rv
+nsmsgdbview
+removebyindex
+index
+rv
+nsimethodimp
+nsmsgthreadeddbview
+getviewtype
+nsmsgviewtypevalue
+aviewtype
+nsensureargpointer
+aviewtype
+aviewtype
+nsmsgviewtype
+eshowallthreads
+nsok
+nsimethodimp
+nsmsgthreadeddbview
+clonedbview
+nsimessenger
+amessengerinstance
+nsimsgwindow
+amsgwindow
+nsimsgdbviewcommandupdater
+acmdupdater
+nsimsgdbview
+retval
+nsmsgthreadeddbview
+newmsgdbview
+nsnewxpcom
+newmsgdbview
+nsmsgthreadeddbview
+newmsgdbview
+nserroroutofmemory
+nsresult
+rv
+copydbview
+newmsgdbview
+amessengerinstance
+amsgwindow
+acmdupdater
+nsensuresuccess
+rv
+rv
+nsifaddref
+retval
+newmsgdbview
+nsok
+nsimethodimp
+nsmsgthreadeddbview
+getsupportsthreading
+prbool
+aresult
+nsensureargpointer
+aresult
+aresult
+prtrue
+nsok
\ No newline at end of file
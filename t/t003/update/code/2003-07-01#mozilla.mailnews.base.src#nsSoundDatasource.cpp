@@ -0,0 +1,968 @@
+nssounddatasource
+nsirdfservice
+nsrdfcid
+nsicomponentmanager
+nsxpidlstring
+rdf
+nsiservicemanager
+nsenumeratorutils
+nsstring
+nscomptr
+nscrt
+nsiprefservice
+nsiprefbranch
+nsifileurl
+nsisimpleenumerator
+nsnetcid
+nsifile
+nsilocalfile
+define
+soundroot
+moz
+mailsounds
+define
+defaultsoundurl
+mozmailbeep
+define
+defaultsoundurlname
+system
+new
+mail
+sound
+define
+prefnewmailurl
+mail
+biff
+playsound
+url
+define
+wavextension
+wav
+define
+wavextensionlength
+define
+filescheme
+file
+define
+fileschemelen
+ifdef
+xpwin
+windows
+endif
+nsdefinecid
+krdfservicecid
+nsrdfservicecid
+nssounddatasource
+nssounddatasource
+nssounddatasource
+nssounddatasource
+nsimplisupports
+nssounddatasource
+nsirdfdatasource
+nsresult
+nssounddatasource
+init
+nsresult
+rv
+mrdfservice
+dogetservice
+krdfservicecid
+rv
+nsensuresuccess
+rv
+rv
+rv
+mrdfservice
+getresource
+nsliteralcstring
+ncnamespaceuri
+child
+getteraddrefs
+kncchild
+nsensuresuccess
+rv
+rv
+rv
+mrdfservice
+getresource
+nsliteralcstring
+ncnamespaceuri
+name
+getteraddrefs
+kncname
+nsensuresuccess
+rv
+rv
+rv
+mrdfservice
+getresource
+nsliteralcstring
+ncnamespaceuri
+soundurl
+getteraddrefs
+kncsoundurl
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nssounddatasource
+geturi
+auri
+auri
+nscrt
+strdup
+rdf
+mailsounds
+nsnull
+nserroroutofmemory
+nsok
+nsimethodimp
+nssounddatasource
+getsource
+nsirdfresource
+property
+nsirdfnode
+target
+prbool
+tv
+nsirdfresource
+source
+nsensureargpointer
+property
+nsensureargpointer
+target
+nsensureargpointer
+source
+source
+nsnull
+nsrdfnovalue
+nsimethodimp
+nssounddatasource
+gettarget
+nsirdfresource
+source
+nsirdfresource
+property
+prbool
+tv
+nsirdfnode
+target
+nsresult
+rv
+nsrdfnovalue
+nsensureargpointer
+property
+nsensureargpointer
+target
+nsensureargpointer
+source
+target
+nsnull
+tv
+nsrdfnovalue
+nsxpidlcstring
+value
+rv
+source
+getvalue
+gettercopies
+value
+nsensuresuccess
+rv
+rv
+property
+kncname
+get
+nscomptr
+nsirdfliteral
+name
+strcmp
+value
+get
+defaultsoundurl
+lastslash
+strrchr
+value
+get
+nscautostring
+soundname
+lastslash
+soundname
+truncate
+soundname
+length
+wavextensionlength
+rv
+mrdfservice
+getliteral
+nsconvertasciitoucs
+soundname
+get
+getteraddrefs
+name
+rv
+mrdfservice
+getliteral
+nsconvertasciitoucs
+defaultsoundurlname
+get
+getteraddrefs
+name
+nsensuresuccess
+rv
+rv
+name
+nsrdfnovalue
+name
+queryinterface
+nsgetiid
+nsirdfnode
+target
+property
+kncsoundurl
+get
+nscomptr
+nsirdfliteral
+name
+rv
+mrdfservice
+getliteral
+nsconvertasciitoucs
+value
+get
+getteraddrefs
+name
+nsensuresuccess
+rv
+rv
+name
+nsrdfnovalue
+name
+queryinterface
+nsgetiid
+nsirdfnode
+target
+property
+kncchild
+get
+strcmp
+value
+get
+soundroot
+nscomptr
+nsirdfresource
+childresource
+rv
+mrdfservice
+getresource
+nsliteralcstring
+defaultsoundurl
+getteraddrefs
+childresource
+nsensuresuccess
+rv
+rv
+childresource
+queryinterface
+nsgetiid
+nsirdfnode
+target
+nsrdfnovalue
+nsrdfnovalue
+ifdef
+xpwin
+byte
+getvaluebytes
+hkey
+hkey
+pvaluename
+long
+err
+dword
+bufsz
+lpbyte
+pbytes
+err
+regqueryvalueex
+hkey
+pvaluename
+bufsz
+err
+errorsuccess
+pbytes
+byte
+bufsz
+err
+regqueryvalueex
+hkey
+pvaluename
+pbytes
+bufsz
+err
+errorsuccess
+pbytes
+pbytes
+pbytes
+endif
+nsimethodimp
+nssounddatasource
+gettargets
+nsirdfresource
+source
+nsirdfresource
+property
+prbool
+tv
+nsisimpleenumerator
+targets
+nsresult
+rv
+nsok
+nsensureargpointer
+property
+nsensureargpointer
+targets
+nsensureargpointer
+source
+targets
+nsnull
+tv
+nsrdfnovalue
+nsxpidlcstring
+value
+rv
+source
+getvalue
+gettercopies
+value
+nsensuresuccess
+rv
+rv
+property
+kncchild
+get
+strcmp
+value
+get
+soundroot
+nsnewemptyenumerator
+targets
+nscomptr
+nsisupportsarray
+children
+rv
+nsnewisupportsarray
+getteraddrefs
+children
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+res
+rv
+mrdfservice
+getresource
+nsliteralcstring
+defaultsoundurl
+getteraddrefs
+res
+nsensuresuccess
+rv
+rv
+rv
+children
+appendelement
+res
+nsensuresuccess
+rv
+rv
+ifdef
+xpwin
+nscautostring
+soundfolder
+hkey
+skey
+regopenkeyex
+hkeylocalmachine
+software
+microsoft
+windows
+currentversion
+keyqueryvalue
+skey
+errorsuccess
+byte
+pbytes
+getvaluebytes
+skey
+mediapath
+pbytes
+soundfolder
+pbytes
+pbytes
+regclosekey
+skey
+nscomptr
+nsilocalfile
+directory
+docreateinstance
+nslocalfilecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+directory
+initwithpath
+nsconvertasciitoucs
+soundfolder
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisimpleenumerator
+direntries
+rv
+directory
+getdirectoryentries
+getteraddrefs
+direntries
+nsensuresuccess
+rv
+rv
+direntries
+prbool
+hasmore
+prfalse
+print
+dircount
+filecount
+nssucceeded
+direntries
+hasmoreelements
+hasmore
+hasmore
+nscomptr
+nsisupports
+nextitem
+direntries
+getnext
+getteraddrefs
+nextitem
+nscomptr
+nsifile
+thefile
+doqueryinterface
+nextitem
+prbool
+isdirectory
+thefile
+isdirectory
+isdirectory
+isdirectory
+nscomptr
+nsifileurl
+thefileurl
+docreateinstance
+nsstandardurlcontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+thefileurl
+setfile
+thefile
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+thefilespec
+rv
+thefileurl
+getspec
+thefilespec
+nsensuresuccess
+rv
+rv
+strstr
+thefilespec
+get
+thefilespec
+length
+wavextensionlength
+strcmp
+thefilespec
+get
+thefilespec
+length
+wavextensionlength
+wavextension
+rv
+mrdfservice
+getresource
+thefilespec
+getteraddrefs
+res
+nsensuresuccess
+rv
+rv
+rv
+children
+appendelement
+res
+nsensuresuccess
+rv
+rv
+endif
+nscomptr
+nsiprefservice
+prefs
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+rv
+prefs
+getbranch
+nsnull
+getteraddrefs
+prefbranch
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+soundurlspec
+rv
+prefbranch
+getcharpref
+prefnewmailurl
+gettercopies
+soundurlspec
+nsensuresuccess
+rv
+rv
+strncmp
+soundurlspec
+get
+filescheme
+fileschemelen
+rv
+mrdfservice
+getresource
+soundurlspec
+getteraddrefs
+res
+nsensuresuccess
+rv
+rv
+rv
+children
+appendelement
+res
+nsensuresuccess
+rv
+rv
+nsisimpleenumerator
+result
+nsarrayenumerator
+children
+result
+nserroroutofmemory
+nsaddref
+targets
+result
+nsok
+property
+kncsoundurl
+get
+nscomptr
+nsirdfliteral
+name
+rv
+mrdfservice
+getliteral
+nsconvertasciitoucs
+value
+get
+getteraddrefs
+name
+nsensuresuccess
+rv
+rv
+nsisimpleenumerator
+result
+nssingletonenumerator
+name
+result
+nserroroutofmemory
+nsaddref
+targets
+result
+nsok
+property
+kncname
+get
+nscomptr
+nsirdfliteral
+name
+strcmp
+value
+get
+defaultsoundurl
+lastslash
+strrchr
+value
+get
+nscautostring
+soundname
+lastslash
+soundname
+truncate
+soundname
+length
+wavextensionlength
+rv
+mrdfservice
+getliteral
+nsconvertasciitoucs
+soundname
+get
+getteraddrefs
+name
+rv
+mrdfservice
+getliteral
+nsconvertasciitoucs
+defaultsoundurlname
+get
+getteraddrefs
+name
+nsensuresuccess
+rv
+rv
+nsisimpleenumerator
+result
+nssingletonenumerator
+name
+result
+nserroroutofmemory
+nsaddref
+targets
+result
+nsok
+nsnewemptyenumerator
+targets
+nsimethodimp
+nssounddatasource
+assert
+nsirdfresource
+source
+nsirdfresource
+property
+nsirdfnode
+target
+prbool
+tv
+nsrdfassertionrejected
+nsimethodimp
+nssounddatasource
+unassert
+nsirdfresource
+source
+nsirdfresource
+property
+nsirdfnode
+target
+nsrdfassertionrejected
+nsimethodimp
+nssounddatasource
+change
+nsirdfresource
+asource
+nsirdfresource
+aproperty
+nsirdfnode
+aoldtarget
+nsirdfnode
+anewtarget
+nsrdfassertionrejected
+nsimethodimp
+nssounddatasource
+move
+nsirdfresource
+aoldsource
+nsirdfresource
+anewsource
+nsirdfresource
+aproperty
+nsirdfnode
+atarget
+nsrdfassertionrejected
+nsimethodimp
+nssounddatasource
+hasassertion
+nsirdfresource
+source
+nsirdfresource
+property
+nsirdfnode
+target
+prbool
+tv
+prbool
+hasassertion
+nsensureargpointer
+property
+nsensureargpointer
+target
+nsensureargpointer
+source
+nsensureargpointer
+hasassertion
+hasassertion
+prfalse
+tv
+nsok
+property
+kncchild
+get
+nsxpidlcstring
+value
+nsresult
+rv
+source
+getvalue
+gettercopies
+value
+nsensuresuccess
+rv
+rv
+hasassertion
+strcmp
+value
+get
+soundroot
+nsok
+property
+kncname
+get
+property
+kncsoundurl
+get
+hasassertion
+prtrue
+nsok
+nsimethodimp
+nssounddatasource
+hasarcin
+nsirdfnode
+anode
+nsirdfresource
+aarc
+prbool
+result
+nserrornotimplemented
+nsimethodimp
+nssounddatasource
+hasarcout
+nsirdfresource
+source
+nsirdfresource
+aarc
+prbool
+result
+nsresult
+rv
+nsok
+aarc
+kncchild
+get
+nsxpidlcstring
+value
+rv
+source
+getvalue
+gettercopies
+value
+result
+strcmp
+value
+get
+soundroot
+nsok
+aarc
+kncname
+get
+aarc
+kncsoundurl
+get
+result
+prtrue
+nsok
+result
+prfalse
+nsok
+nsimethodimp
+nssounddatasource
+arclabelsin
+nsirdfnode
+node
+nsisimpleenumerator
+labels
+nserrornotimplemented
+nsimethodimp
+nssounddatasource
+arclabelsout
+nsirdfresource
+source
+nsisimpleenumerator
+labels
+nsensureargpointer
+labels
+nsensureargpointer
+source
+nsresult
+rv
+nsok
+nscomptr
+nsisupportsarray
+array
+rv
+nsnewisupportsarray
+getteraddrefs
+array
+nsensuresuccess
+rv
+rv
+array
+appendelement
+kncname
+array
+appendelement
+kncsoundurl
+nsxpidlcstring
+value
+rv
+source
+getvalue
+gettercopies
+value
+prbool
+haschildren
+strcmp
+value
+get
+soundroot
+haschildren
+array
+appendelement
+kncchild
+nsisimpleenumerator
+result
+nsarrayenumerator
+array
+result
+nserroroutofmemory
+nsaddref
+result
+labels
+result
+nsok
+nsimethodimp
+nssounddatasource
+getallresources
+nsisimpleenumerator
+acursor
+nsnotyetimplemented
+sorry
+nserrornotimplemented
+nsimethodimp
+nssounddatasource
+getallcmds
+nsirdfresource
+source
+nsisimpleenumerator
+commands
+nsnewemptyenumerator
+commands
+nsimethodimp
+nssounddatasource
+iscommandenabled
+nsisupportsarray
+asources
+nsirdfresource
+acommand
+nsisupportsarray
+aarguments
+prbool
+aresult
+nserrornotimplemented
+nsimethodimp
+nssounddatasource
+docommand
+nsisupportsarray
+asources
+nsirdfresource
+acommand
+nsisupportsarray
+aarguments
+nserrornotimplemented
+nsimethodimp
+nssounddatasource
+getsources
+nsirdfresource
+aproperty
+nsirdfnode
+atarget
+prbool
+atruthvalue
+nsisimpleenumerator
+retval
+nsassertion
+prfalse
+not
+implemented
+nserrornotimplemented
+nsimethodimp
+nssounddatasource
+addobserver
+nsirdfobserver
+nsensureargpointer
+mobservers
+nsresult
+rv
+nsnewisupportsarray
+getteraddrefs
+mobservers
+nsfailed
+rv
+rv
+mobservers
+appendelement
+nsok
+nsimethodimp
+nssounddatasource
+removeobserver
+nsirdfobserver
+nsensureargpointer
+mobservers
+nsok
+mobservers
+removeelement
+nsok
+nsimethodimp
+nssounddatasource
+beginupdatebatch
+nsok
+nsimethodimp
+nssounddatasource
+endupdatebatch
+nsok
\ No newline at end of file
@@ -0,0 +1,399 @@
+nsstatusbarbiffmanager
+nsmsgbiffmanager
+nscrt
+nsimsgmailsession
+nsimsgaccountmanager
+nsmsgbasecid
+nsiobserverservice
+nsiwindowmediator
+nsidomdocument
+nsidomwindowinternal
+nsidomelement
+nsimsgmailsession
+nsmsgfolderdatasource
+mailnewstypes
+nsimsgfolder
+nsifilechannel
+nsipref
+nsxpidlstring
+nsiurl
+nsnetutil
+nsifileurl
+nsifile
+nsimplisupports
+nsstatusbarbiffmanager
+nsifolderlistener
+nsiatom
+nsstatusbarbiffmanager
+kbiffstateatom
+nsnull
+nsstatusbarbiffmanager
+nsstatusbarbiffmanager
+minitialized
+prfalse
+mcurrentbiffstate
+nsimsgfolder
+nsmsgbiffstatenomail
+nsstatusbarbiffmanager
+nsstatusbarbiffmanager
+nsifrelease
+kbiffstateatom
+define
+prefplaysoundonnewmail
+mail
+biff
+playsound
+define
+prefnewmailsoundurl
+mail
+biff
+playsound
+url
+define
+prefnewmailsoundtype
+mail
+biff
+playsound
+type
+define
+systemsoundtype
+define
+customsoundtype
+define
+defaultsystemsound
+mozmailbeep
+nsresult
+nsstatusbarbiffmanager
+init
+minitialized
+nserroralreadyinitialized
+nsresult
+rv
+kbiffstateatom
+nsnewatom
+biffstate
+nscomptr
+nsimsgmailsession
+mailsession
+dogetservice
+nsmsgmailsessioncontractid
+rv
+nssucceeded
+rv
+mailsession
+addfolderlistener
+nsifolderlistener
+propertyflagchanged
+minitialized
+prtrue
+nsok
+nsresult
+nsstatusbarbiffmanager
+playbiffsound
+nsresult
+rv
+nscomptr
+nsipref
+pref
+dogetservice
+nsprefcontractid
+rv
+nsensuresuccess
+rv
+rv
+prbool
+playsoundonbiff
+prfalse
+rv
+pref
+getboolpref
+prefplaysoundonnewmail
+playsoundonbiff
+nsensuresuccess
+rv
+rv
+playsoundonbiff
+nsok
+msound
+msound
+docreateinstance
+sound
+print
+newmailsoundtype
+systemsoundtype
+rv
+pref
+getintpref
+prefnewmailsoundtype
+newmailsoundtype
+nsensuresuccess
+rv
+rv
+prbool
+customsoundplayed
+prfalse
+newmailsoundtype
+customsoundtype
+nsxpidlcstring
+soundurlspec
+rv
+pref
+getcharpref
+prefnewmailsoundurl
+gettercopies
+soundurlspec
+nssucceeded
+rv
+soundurlspec
+isempty
+strncmp
+soundurlspec
+get
+file
+nscomptr
+nsiuri
+fileuri
+rv
+nsnewuri
+getteraddrefs
+fileuri
+soundurlspec
+nsensuresuccess
+rv
+rv
+nscomptr
+nsifileurl
+soundurl
+doqueryinterface
+fileuri
+rv
+nssucceeded
+rv
+nscomptr
+nsifile
+soundfile
+rv
+soundurl
+getfile
+getteraddrefs
+soundfile
+nssucceeded
+rv
+prbool
+soundfileexists
+prfalse
+rv
+soundfile
+exists
+soundfileexists
+nssucceeded
+rv
+soundfileexists
+rv
+msound
+play
+soundurl
+nssucceeded
+rv
+customsoundplayed
+prtrue
+rv
+msound
+playsystemsound
+soundurlspec
+get
+nssucceeded
+rv
+customsoundplayed
+prtrue
+customsoundplayed
+rv
+msound
+playsystemsound
+defaultsystemsound
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsstatusbarbiffmanager
+performstatusbarbiff
+pruint
+newbiffflag
+nsresult
+rv
+newbiffflag
+nsimsgfolder
+nsmsgbiffstatenewmail
+playbiffsound
+nscomptr
+nsiwindowmediator
+windowmediator
+dogetservice
+nswindowmediatorcontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisimpleenumerator
+windowenumerator
+nssucceeded
+windowmediator
+getenumerator
+nsnull
+getteraddrefs
+windowenumerator
+prbool
+more
+windowenumerator
+hasmoreelements
+more
+more
+nscomptr
+nsisupports
+nextwindow
+nsnull
+windowenumerator
+getnext
+getteraddrefs
+nextwindow
+nscomptr
+nsidomwindowinternal
+domwindow
+doqueryinterface
+nextwindow
+nsensuretrue
+domwindow
+nserrorfailure
+nscomptr
+nsidomdocument
+domdocument
+domwindow
+getdocument
+getteraddrefs
+domdocument
+domdocument
+nscomptr
+nsidomelement
+domelement
+domdocument
+getelementbyid
+nsliteralstring
+mini
+mail
+getteraddrefs
+domelement
+domelement
+newbiffflag
+nsimsgfolder
+nsmsgbiffstatenewmail
+domelement
+setattribute
+nsliteralstring
+biffstate
+nsliteralstring
+newmail
+newbiffflag
+nsimsgfolder
+nsmsgbiffstatenomail
+domelement
+removeattribute
+nsliteralstring
+biffstate
+windowenumerator
+hasmoreelements
+more
+nsok
+nsimethodimp
+nsstatusbarbiffmanager
+onitemadded
+nsisupports
+parentitem
+nsisupports
+item
+viewstring
+nsok
+nsimethodimp
+nsstatusbarbiffmanager
+onitemremoved
+nsisupports
+parentitem
+nsisupports
+item
+viewstring
+nsok
+nsimethodimp
+nsstatusbarbiffmanager
+onitempropertychanged
+nsisupports
+item
+nsiatom
+property
+oldvalue
+newvalue
+nsok
+nsimethodimp
+nsstatusbarbiffmanager
+onitemintpropertychanged
+nsisupports
+item
+nsiatom
+property
+print
+oldvalue
+print
+newvalue
+nsok
+nsimethodimp
+nsstatusbarbiffmanager
+onitemboolpropertychanged
+nsisupports
+item
+nsiatom
+property
+prbool
+oldvalue
+prbool
+newvalue
+nsok
+nsimethodimp
+nsstatusbarbiffmanager
+onitemunicharpropertychanged
+nsisupports
+item
+nsiatom
+property
+prunichar
+oldvalue
+prunichar
+newvalue
+nsok
+nsimethodimp
+nsstatusbarbiffmanager
+onitempropertyflagchanged
+nsisupports
+item
+nsiatom
+property
+pruint
+oldflag
+pruint
+newflag
+kbiffstateatom
+property
+mcurrentbiffstate
+newflag
+performstatusbarbiff
+newflag
+mcurrentbiffstate
+newflag
+nsok
+nsimethodimp
+nsstatusbarbiffmanager
+onitemevent
+nsifolder
+item
+nsiatom
+event
+nsok
\ No newline at end of file
@@ -0,0 +1,1330 @@
+nssubscribableserver
+nscomptr
+nscrt
+nsxpidlstring
+nsreadableutils
+nsifolder
+prmem
+rdf
+nsrdfcid
+nsirdfservice
+nsirdfdatasource
+nsirdfresource
+nsirdfliteral
+nsiservicemanager
+nsmsgutfutils
+nsmsgutils
+nsdefinecid
+krdfservicecid
+nsrdfservicecid
+mozdeclctorcounter
+nssubscribableserver
+nssubscribableserver
+nssubscribableserver
+mdelimiter
+mshowfullname
+prtrue
+mtreeroot
+nsnull
+mstopped
+prfalse
+nsresult
+nssubscribableserver
+init
+nsresult
+rv
+rv
+ensurerdfservice
+nsensuresuccess
+rv
+rv
+rv
+mrdfservice
+getresource
+nsliteralcstring
+ncnamespaceuri
+child
+getteraddrefs
+kncchild
+nsensuresuccess
+rv
+rv
+rv
+mrdfservice
+getresource
+nsliteralcstring
+ncnamespaceuri
+subscribed
+getteraddrefs
+kncsubscribed
+nsensuresuccess
+rv
+rv
+rv
+mrdfservice
+getliteral
+nsliteralstring
+get
+getteraddrefs
+ktrueliteral
+nsensuresuccess
+rv
+rv
+rv
+mrdfservice
+getliteral
+nsliteralstring
+get
+getteraddrefs
+kfalseliteral
+nsensuresuccess
+rv
+rv
+nsok
+nssubscribableserver
+nssubscribableserver
+nsresult
+rv
+nsok
+ifdef
+debugseth
+printf
+free
+subscribe
+tree
+endif
+rv
+freesubtree
+mtreeroot
+nsassertion
+nssucceeded
+rv
+failed
+to
+free
+tree
+nsimplthreadsafeisupports
+nssubscribableserver
+nsisubscribableserver
+nsimethodimp
+nssubscribableserver
+setincomingserver
+nsimsgincomingserver
+aserver
+mincomingserver
+aserver
+nsok
+nsimethodimp
+nssubscribableserver
+getdelimiter
+adelimiter
+adelimiter
+nserrornullpointer
+adelimiter
+mdelimiter
+nsok
+nsimethodimp
+nssubscribableserver
+setdelimiter
+adelimiter
+mdelimiter
+adelimiter
+nsok
+nsimethodimp
+nssubscribableserver
+setassubscribed
+path
+nsassertion
+path
+no
+path
+path
+nserrornullpointer
+nsresult
+rv
+nsok
+subscribetreenode
+node
+nsnull
+rv
+findandcreatenode
+path
+node
+nsensuresuccess
+rv
+rv
+nsassertion
+node
+didn
+find
+the
+node
+node
+nserrorfailure
+node
+issubscribable
+prtrue
+node
+issubscribed
+prtrue
+rv
+notifychange
+node
+kncsubscribed
+node
+issubscribed
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nssubscribableserver
+addto
+aname
+prbool
+addassubscribed
+prbool
+changeifexists
+nsresult
+rv
+nsok
+mstopped
+ifdef
+debugseth
+printf
+stopped
+endif
+nserrorfailure
+subscribetreenode
+node
+nsnull
+rv
+findandcreatenode
+aname
+node
+nsensuresuccess
+rv
+rv
+nsassertion
+node
+didn
+find
+the
+node
+node
+nserrorfailure
+changeifexists
+node
+issubscribed
+addassubscribed
+rv
+notifychange
+node
+kncsubscribed
+node
+issubscribed
+nsensuresuccess
+rv
+rv
+node
+issubscribable
+prtrue
+rv
+nsimethodimp
+nssubscribableserver
+setstate
+path
+prbool
+state
+prbool
+statechanged
+nsresult
+rv
+nsok
+nsassertion
+path
+statechanged
+no
+path
+statechanged
+path
+statechanged
+nserrornullpointer
+statechanged
+prfalse
+subscribetreenode
+node
+nsnull
+rv
+findandcreatenode
+path
+node
+nsensuresuccess
+rv
+rv
+nsassertion
+node
+didn
+find
+the
+node
+node
+nserrorfailure
+nsassertion
+node
+issubscribable
+fix
+node
+issubscribable
+nsok
+node
+issubscribed
+state
+nsok
+node
+issubscribed
+state
+statechanged
+prtrue
+rv
+notifychange
+node
+kncsubscribed
+node
+issubscribed
+nsensuresuccess
+rv
+rv
+rv
+nssubscribableserver
+buildurifromnode
+subscribetreenode
+node
+nscautostring
+uri
+node
+parent
+buildurifromnode
+node
+parent
+uri
+node
+parent
+mtreeroot
+uri
+uri
+mdelimiter
+uri
+node
+name
+nsresult
+nssubscribableserver
+notifyassert
+subscribetreenode
+subjectnode
+nsirdfresource
+property
+subscribetreenode
+objectnode
+nsresult
+rv
+prbool
+hasobservers
+prtrue
+rv
+ensuresubscribeds
+nsensuresuccess
+rv
+rv
+rv
+msubscribeds
+gethasobservers
+hasobservers
+nsensuresuccess
+rv
+rv
+hasobservers
+nsok
+nscautostring
+subjecturi
+buildurifromnode
+subjectnode
+subjecturi
+nscautostring
+objecturi
+buildurifromnode
+objectnode
+objecturi
+nscomptr
+nsirdfresource
+subject
+nscomptr
+nsirdfresource
+object
+rv
+ensurerdfservice
+nsensuresuccess
+rv
+rv
+rv
+mrdfservice
+getresource
+subjecturi
+getteraddrefs
+subject
+nsensuresuccess
+rv
+rv
+rv
+mrdfservice
+getresource
+objecturi
+getteraddrefs
+object
+nsensuresuccess
+rv
+rv
+rv
+notify
+subject
+property
+object
+prtrue
+prfalse
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nssubscribableserver
+ensurerdfservice
+nsresult
+rv
+mrdfservice
+mrdfservice
+dogetservice
+krdfservicecid
+rv
+nsassertion
+nssucceeded
+rv
+mrdfservice
+failed
+to
+get
+rdf
+service
+nsensuresuccess
+rv
+rv
+mrdfservice
+nserrorfailure
+nsok
+nsresult
+nssubscribableserver
+notifychange
+subscribetreenode
+subjectnode
+nsirdfresource
+property
+prbool
+value
+nsresult
+rv
+nscomptr
+nsirdfresource
+subject
+prbool
+hasobservers
+prtrue
+rv
+ensuresubscribeds
+nsensuresuccess
+rv
+rv
+rv
+msubscribeds
+gethasobservers
+hasobservers
+nsensuresuccess
+rv
+rv
+hasobservers
+nsok
+nscautostring
+subjecturi
+buildurifromnode
+subjectnode
+subjecturi
+rv
+ensurerdfservice
+nsensuresuccess
+rv
+rv
+rv
+mrdfservice
+getresource
+subjecturi
+getteraddrefs
+subject
+nsensuresuccess
+rv
+rv
+value
+rv
+notify
+subject
+property
+ktrueliteral
+prfalse
+prtrue
+rv
+notify
+subject
+property
+kfalseliteral
+prfalse
+prtrue
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nssubscribableserver
+ensuresubscribeds
+nsresult
+rv
+nsok
+msubscribeds
+nscomptr
+nsirdfdatasource
+ds
+rv
+ensurerdfservice
+nsensuresuccess
+rv
+rv
+rv
+mrdfservice
+getdatasource
+rdf
+subscribe
+getteraddrefs
+ds
+nsensuresuccess
+rv
+rv
+ds
+nserrorfailure
+msubscribeds
+doqueryinterface
+ds
+rv
+nsensuresuccess
+rv
+rv
+msubscribeds
+nserrorfailure
+nsok
+nsresult
+nssubscribableserver
+notify
+nsirdfresource
+subject
+nsirdfresource
+property
+nsirdfnode
+object
+prbool
+isassert
+prbool
+ischange
+nsresult
+rv
+nsok
+rv
+ensuresubscribeds
+nsensuresuccess
+rv
+rv
+rv
+msubscribeds
+notifyobservers
+subject
+property
+object
+isassert
+ischange
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nssubscribableserver
+setsubscribelistener
+nsisubscribelistener
+alistener
+msubscribelistener
+alistener
+nsok
+nsimethodimp
+nssubscribableserver
+getsubscribelistener
+nsisubscribelistener
+alistener
+alistener
+nserrornullpointer
+msubscribelistener
+alistener
+msubscribelistener
+nsaddref
+alistener
+nsok
+nsimethodimp
+nssubscribableserver
+subscribecleanup
+nsassertion
+prfalse
+override
+nserrorfailure
+nsimethodimp
+nssubscribableserver
+startpopulatingwithuri
+nsimsgwindow
+amsgwindow
+prbool
+aforcetoserver
+uri
+mstopped
+prfalse
+nsok
+nsimethodimp
+nssubscribableserver
+startpopulating
+nsimsgwindow
+amsgwindow
+prbool
+aforcetoserver
+nsresult
+rv
+nsok
+mstopped
+prfalse
+rv
+freesubtree
+mtreeroot
+mtreeroot
+nsnull
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nssubscribableserver
+stoppopulating
+nsimsgwindow
+amsgwindow
+mstopped
+prtrue
+nsok
+nsimethodimp
+nssubscribableserver
+updatesubscribed
+nsassertion
+prfalse
+override
+nserrorfailure
+nsimethodimp
+nssubscribableserver
+subscribe
+prunichar
+aname
+nsassertion
+prfalse
+override
+nserrorfailure
+nsimethodimp
+nssubscribableserver
+unsubscribe
+prunichar
+aname
+nsassertion
+prfalse
+override
+nserrorfailure
+nsimethodimp
+nssubscribableserver
+setshowfullname
+prbool
+showfullname
+mshowfullname
+showfullname
+nsok
+nsresult
+nssubscribableserver
+freesubtree
+subscribetreenode
+node
+nsresult
+rv
+nsok
+node
+node
+firstchild
+rv
+freesubtree
+node
+firstchild
+nsensuresuccess
+rv
+rv
+node
+firstchild
+nsnull
+node
+nextsibling
+rv
+freesubtree
+node
+nextsibling
+nsensuresuccess
+rv
+rv
+node
+nextsibling
+nsnull
+ifdef
+havesubscribedescription
+nsassertion
+node
+description
+nsnull
+you
+need
+to
+free
+the
+description
+endif
+crtfreeif
+node
+name
+node
+name
+nsnull
+node
+parent
+nsnull
+node
+lastchild
+nsnull
+node
+cachedchild
+nsnull
+endif
+prfree
+node
+nsok
+nsresult
+nssubscribableserver
+createnode
+subscribetreenode
+parent
+name
+subscribetreenode
+result
+nsassertion
+result
+name
+result
+name
+is
+result
+name
+nserrornullpointer
+result
+subscribetreenode
+prmalloc
+subscribetreenode
+result
+nserroroutofmemory
+result
+name
+nscrt
+strdup
+name
+result
+name
+nserroroutofmemory
+result
+parent
+parent
+result
+prevsibling
+nsnull
+result
+nextsibling
+nsnull
+result
+firstchild
+nsnull
+result
+lastchild
+nsnull
+result
+issubscribed
+prfalse
+result
+issubscribable
+prfalse
+ifdef
+havesubscribedescription
+result
+description
+nsnull
+endif
+ifdef
+havesubscribemessages
+result
+messages
+endif
+result
+cachedchild
+nsnull
+parent
+parent
+cachedchild
+result
+nsok
+nsresult
+nssubscribableserver
+addchildnode
+subscribetreenode
+parent
+name
+subscribetreenode
+child
+nsresult
+rv
+nsok
+nsassertion
+parent
+child
+name
+parent
+child
+name
+is
+parent
+child
+name
+nserrornullpointer
+parent
+firstchild
+rv
+createnode
+parent
+name
+child
+nsensuresuccess
+rv
+rv
+parent
+firstchild
+child
+parent
+lastchild
+child
+rv
+notifyassert
+parent
+kncchild
+child
+nsensuresuccess
+rv
+rv
+nsok
+parent
+cachedchild
+nscrt
+strcmp
+parent
+cachedchild
+name
+name
+child
+parent
+cachedchild
+nsok
+subscribetreenode
+current
+parent
+firstchild
+print
+compare
+nscrt
+strcmp
+current
+name
+name
+current
+compare
+compare
+rv
+createnode
+parent
+name
+child
+nsensuresuccess
+rv
+rv
+child
+nextsibling
+current
+child
+prevsibling
+current
+prevsibling
+current
+prevsibling
+child
+child
+prevsibling
+parent
+firstchild
+child
+child
+prevsibling
+nextsibling
+child
+rv
+notifyassert
+parent
+kncchild
+child
+nsensuresuccess
+rv
+rv
+nsok
+current
+current
+nextsibling
+current
+nsassertion
+current
+name
+no
+name
+compare
+nscrt
+strcmp
+current
+name
+name
+compare
+compare
+child
+current
+parent
+cachedchild
+child
+nsok
+rv
+createnode
+parent
+name
+child
+nsensuresuccess
+rv
+rv
+child
+prevsibling
+parent
+lastchild
+child
+nextsibling
+nsnull
+parent
+lastchild
+nextsibling
+child
+parent
+lastchild
+child
+rv
+notifyassert
+parent
+kncchild
+child
+nsensuresuccess
+rv
+rv
+nsok
+nsok
+nsresult
+nssubscribableserver
+findandcreatenode
+path
+subscribetreenode
+result
+nsresult
+rv
+nsok
+nsassertion
+result
+no
+result
+result
+nserrornullpointer
+mtreeroot
+nsxpidlcstring
+serveruri
+rv
+mincomingserver
+getserveruri
+gettercopies
+serveruri
+nsensuresuccess
+rv
+rv
+rv
+createnode
+nsnull
+serveruri
+mtreeroot
+nsensuresuccess
+rv
+rv
+path
+path
+result
+mtreeroot
+nsok
+pathstr
+nscrt
+strdup
+path
+token
+nsnull
+rest
+pathstr
+delimstr
+delimstr
+mdelimiter
+delimstr
+result
+nsnull
+subscribetreenode
+parent
+mtreeroot
+subscribetreenode
+child
+nsnull
+token
+nscrt
+strtok
+rest
+delimstr
+rest
+token
+token
+rv
+addchildnode
+parent
+token
+child
+nsfailed
+rv
+crtfreeif
+pathstr
+rv
+token
+nscrt
+strtok
+rest
+delimstr
+rest
+parent
+child
+crtfreeif
+pathstr
+result
+child
+rv
+nsimethodimp
+nssubscribableserver
+haschildren
+path
+prbool
+ahaschildren
+nsresult
+rv
+nsok
+nsassertion
+ahaschildren
+no
+ahaschildren
+ahaschildren
+nserrornullpointer
+ahaschildren
+prfalse
+subscribetreenode
+node
+nsnull
+rv
+findandcreatenode
+path
+node
+nsensuresuccess
+rv
+rv
+nsassertion
+node
+didn
+find
+the
+node
+node
+nserrorfailure
+ahaschildren
+node
+firstchild
+nsnull
+nsok
+nsimethodimp
+nssubscribableserver
+issubscribed
+path
+prbool
+aissubscribed
+nsresult
+rv
+nsok
+nsassertion
+aissubscribed
+no
+aissubscribed
+aissubscribed
+nserrornullpointer
+aissubscribed
+prfalse
+subscribetreenode
+node
+nsnull
+rv
+findandcreatenode
+path
+node
+nsensuresuccess
+rv
+rv
+nsassertion
+node
+didn
+find
+the
+node
+node
+nserrorfailure
+aissubscribed
+node
+issubscribed
+nsok
+nsimethodimp
+nssubscribableserver
+getleafname
+path
+prunichar
+aleafname
+nsresult
+rv
+nsok
+nsassertion
+aleafname
+no
+aleafname
+aleafname
+nserrornullpointer
+subscribetreenode
+node
+nsnull
+rv
+findandcreatenode
+path
+node
+nsensuresuccess
+rv
+rv
+nsassertion
+node
+didn
+find
+the
+node
+node
+nserrorfailure
+mshowfullname
+rv
+nsmsgdecodeunescapeurlpath
+path
+aleafname
+rv
+createunicodestringfromutf
+node
+name
+aleafname
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nssubscribableserver
+getfirstchilduri
+path
+aresult
+nsresult
+rv
+nsok
+aresult
+nserrornullpointer
+subscribetreenode
+node
+nsnull
+rv
+findandcreatenode
+path
+node
+nsensuresuccess
+rv
+rv
+nsassertion
+node
+didn
+find
+the
+node
+node
+nserrorfailure
+node
+firstchild
+nserrorfailure
+nscautostring
+uri
+buildurifromnode
+node
+firstchild
+uri
+aresult
+tonewcstring
+uri
+aresult
+nserroroutofmemory
+nsok
+nsimethodimp
+nssubscribableserver
+getchildren
+path
+nsisupportsarray
+array
+nsresult
+rv
+nsok
+array
+nserrornullpointer
+subscribetreenode
+node
+nsnull
+rv
+findandcreatenode
+path
+node
+nsensuresuccess
+rv
+rv
+nsassertion
+node
+didn
+find
+the
+node
+node
+nserrorfailure
+nscautostring
+uriprefix
+nsassertion
+mtreeroot
+no
+tree
+root
+mtreeroot
+nserrorunexpected
+uriprefix
+mtreeroot
+name
+uriprefix
+path
+path
+uriprefix
+path
+uriprefix
+mdelimiter
+subscribetreenode
+current
+node
+lastchild
+current
+nserrorfailure
+current
+nscautostring
+uri
+uri
+uriprefix
+nsassertion
+current
+name
+no
+name
+current
+name
+nserrorfailure
+uri
+current
+name
+nscomptr
+nsirdfresource
+res
+rv
+ensurerdfservice
+nsensuresuccess
+rv
+rv
+mrdfservice
+getresource
+uri
+getteraddrefs
+res
+array
+appendelement
+res
+current
+current
+prevsibling
+nsok
+nsimethodimp
+nssubscribableserver
+commitsubscribechanges
+nsassertion
+prfalse
+override
+nserrorfailure
+nsimethodimp
+nssubscribableserver
+setsearchvalue
+searchvalue
+nserrornotimplemented
+nsimethodimp
+nssubscribableserver
+getsupportssubscribesearch
+prbool
+retval
+nserrornotimplemented
\ No newline at end of file
@@ -0,0 +1,86 @@
+nsadapterenumerator
+nsadapterenumerator
+nsadapterenumerator
+nsienumerator
+aenum
+menum
+aenum
+mcurrent
+mstarted
+prfalse
+nsaddref
+menum
+nsadapterenumerator
+nsadapterenumerator
+nsrelease
+menum
+nsifrelease
+mcurrent
+nsimplisupports
+nsadapterenumerator
+nsisimpleenumerator
+nsimethodimp
+nsadapterenumerator
+hasmoreelements
+prbool
+aresult
+nsresult
+rv
+mcurrent
+aresult
+prtrue
+nsok
+mstarted
+mstarted
+prtrue
+rv
+menum
+first
+rv
+nsok
+menum
+currentitem
+mcurrent
+aresult
+prtrue
+aresult
+prfalse
+aresult
+prfalse
+rv
+menum
+isdone
+rv
+nsok
+rv
+menum
+next
+rv
+nsok
+menum
+currentitem
+mcurrent
+aresult
+prtrue
+nsok
+nsimethodimp
+nsadapterenumerator
+getnext
+nsisupports
+aresult
+nsresult
+rv
+prbool
+hasmore
+rv
+hasmoreelements
+hasmore
+nsfailed
+rv
+rv
+hasmore
+nserrorunexpected
+aresult
+mcurrent
+mcurrent
+nsok
\ No newline at end of file
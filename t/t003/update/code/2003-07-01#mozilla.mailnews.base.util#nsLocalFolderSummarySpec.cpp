@@ -0,0 +1,73 @@
+nslocalfoldersummaryspec
+plstr
+nsstring
+nsreadableutils
+mozdeclctorcounter
+nslocalfoldersummaryspec
+nslocalfoldersummaryspec
+nslocalfoldersummaryspec
+mozcountdtor
+nslocalfoldersummaryspec
+nslocalfoldersummaryspec
+nslocalfoldersummaryspec
+mozcountctor
+nslocalfoldersummaryspec
+nslocalfoldersummaryspec
+nslocalfoldersummaryspec
+folderpath
+prbool
+create
+nsfilespec
+folderpath
+create
+mozcountctor
+nslocalfoldersummaryspec
+createsummaryfilename
+nslocalfoldersummaryspec
+nslocalfoldersummaryspec
+nsfilespec
+infolderpath
+nsfilespec
+infolderpath
+mozcountctor
+nslocalfoldersummaryspec
+createsummaryfilename
+nslocalfoldersummaryspec
+nslocalfoldersummaryspec
+nsfilepath
+infolderpath
+prbool
+create
+nsfilespec
+infolderpath
+create
+mozcountctor
+nslocalfoldersummaryspec
+createsummaryfilename
+nslocalfoldersummaryspec
+setfoldername
+folderpath
+folderpath
+nslocalfoldersummaryspec
+createsummaryfilename
+leafname
+getleafname
+nsstring
+fullleafname
+fullleafname
+assignwithconversion
+leafname
+fullleafname
+append
+nsliteralstring
+msf
+cleafname
+tonewcstring
+fullleafname
+setleafname
+cleafname
+nsmemory
+free
+cleafname
+plstrfree
+leafname
\ No newline at end of file
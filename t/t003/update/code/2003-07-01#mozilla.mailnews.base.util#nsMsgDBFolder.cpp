@@ -0,0 +1,3086 @@
+msgcore
+nsreadableutils
+nsmsgdbfolder
+nsmsgfolderflags
+nsiprefbranch
+nsiprefservice
+nsnetutil
+nsimsgfoldercache
+nsimsgfoldercacheelement
+nsmsgbasecid
+nsimsgmailnewsurl
+nsimsgaccountmanager
+nsxpidlstring
+nslocalfoldersummaryspec
+nsifilestream
+nsichannel
+nsitransport
+nsimsgfoldercompactor
+nsidocshell
+nsimsgwindow
+nsiprompt
+nsiinterfacerequestor
+nsiinterfacerequestorutils
+nsabbasecid
+nsiabmdbdirectory
+nsispamsettings
+nsimsgfilterplugin
+nsimsgmailsession
+nsirdfservice
+time
+define
+onehour
+nsmsgutils
+prtime
+gtimeoflastpurgecheck
+define
+prefmailpromptpurgethreshold
+mail
+promptpurgethreshhold
+define
+prefmailpurgethreshold
+mail
+purgethreshhold
+nsiatom
+nsmsgdbfolder
+mfolderloadedatom
+nsnull
+nsiatom
+nsmsgdbfolder
+mdeleteormovemsgcompletedatom
+nsnull
+nsiatom
+nsmsgdbfolder
+mdeleteormovemsgfailedatom
+nsnull
+nsiatom
+nsmsgdbfolder
+mjunkstatuschangedatom
+nsnull
+nsrefcnt
+nsmsgdbfolder
+minstancecount
+nsimplisupportsinherited
+nsmsgdbfolder
+nsmsgfolder
+nsidbchangelistener
+nsiurllistener
+nsmsgdbfolder
+nsmsgdbfolder
+maddlistener
+prtrue
+mnewmessages
+prfalse
+mgettingnewmessages
+prfalse
+mlastmessageloaded
+nsmsgkeynone
+minstancecount
+mfolderloadedatom
+nsnewatom
+folderloaded
+mdeleteormovemsgcompletedatom
+nsnewatom
+deleteormovemsgcompleted
+mdeleteormovemsgfailedatom
+nsnewatom
+deleteormovemsgfailed
+mjunkstatuschangedatom
+nsnewatom
+junkstatuschanged
+llil
+gtimeoflastpurgecheck
+nsmsgdbfolder
+nsmsgdbfolder
+minstancecount
+nsifrelease
+mfolderloadedatom
+nsifrelease
+mdeleteormovemsgcompletedatom
+nsifrelease
+mdeleteormovemsgfailedatom
+nsifrelease
+mjunkstatuschangedatom
+shutdown
+prfalse
+nsimethodimp
+nsmsgdbfolder
+shutdown
+prbool
+shutdownchildren
+mdatabase
+mdatabase
+removelistener
+mdatabase
+close
+prtrue
+mdatabase
+nsnull
+shutdownchildren
+pruint
+count
+nsresult
+rv
+msubfolders
+count
+count
+nssucceeded
+rv
+pruint
+count
+nscomptr
+nsifolder
+childfolder
+doqueryelementat
+msubfolders
+childfolder
+childfolder
+shutdown
+prtrue
+nsmsgfolder
+shutdown
+shutdownchildren
+nsok
+nsimethodimp
+nsmsgdbfolder
+forcedbclosed
+notifystoreclosedallheaders
+pruint
+cnt
+msubfolders
+nscomptr
+nsimsgfolder
+child
+msubfolders
+count
+cnt
+cnt
+cnt
+child
+doqueryelementat
+msubfolders
+child
+child
+forcedbclosed
+mdatabase
+mdatabase
+forceclosed
+mdatabase
+nsnull
+nsok
+nsimethodimp
+nsmsgdbfolder
+startfolderloading
+mdatabase
+mdatabase
+removelistener
+maddlistener
+prfalse
+nsok
+nsimethodimp
+nsmsgdbfolder
+endfolderloading
+mdatabase
+mdatabase
+addlistener
+maddlistener
+prtrue
+updatesummarytotals
+prtrue
+mdatabase
+nsresult
+rv
+prbool
+hasnewmessages
+rv
+mdatabase
+hasnew
+hasnewmessages
+sethasnewmessages
+hasnewmessages
+nsok
+nsimethodimp
+nsmsgdbfolder
+getexpungedbytes
+pruint
+count
+count
+nserrornullpointer
+mdatabase
+nsresult
+rv
+nscomptr
+nsidbfolderinfo
+folderinfo
+rv
+mdatabase
+getdbfolderinfo
+getteraddrefs
+folderinfo
+nsfailed
+rv
+rv
+rv
+folderinfo
+getexpungedbytes
+print
+count
+nssucceeded
+rv
+mexpungedbytes
+count
+rv
+readdbfolderinfo
+prfalse
+count
+mexpungedbytes
+nsok
+nsimethodimp
+nsmsgdbfolder
+getcharset
+acharset
+nsresult
+rv
+nsok
+acharset
+nserrornullpointer
+nscomptr
+nsidbfolderinfo
+folderinfo
+nscomptr
+nsimsgdatabase
+db
+rv
+getdbfolderinfoanddb
+getteraddrefs
+folderinfo
+getteraddrefs
+db
+nssucceeded
+rv
+folderinfo
+getcharptrcharacterset
+acharset
+rv
+nsimethodimp
+nsmsgdbfolder
+setcharset
+acharset
+nsresult
+rv
+nscomptr
+nsidbfolderinfo
+folderinfo
+nscomptr
+nsimsgdatabase
+db
+rv
+getdbfolderinfoanddb
+getteraddrefs
+folderinfo
+getteraddrefs
+db
+nssucceeded
+rv
+rv
+folderinfo
+setcharacterset
+nsconvertasciitoucs
+acharset
+get
+db
+commit
+nsmsgdbcommittype
+klargecommit
+mcharset
+assignwithconversion
+acharset
+rv
+nsimethodimp
+nsmsgdbfolder
+getcharsetoverride
+prbool
+acharsetoverride
+nscomptr
+nsidbfolderinfo
+folderinfo
+nscomptr
+nsimsgdatabase
+db
+nsresult
+rv
+getdbfolderinfoanddb
+getteraddrefs
+folderinfo
+getteraddrefs
+db
+nssucceeded
+rv
+rv
+folderinfo
+getcharactersetoverride
+acharsetoverride
+rv
+nsimethodimp
+nsmsgdbfolder
+setcharsetoverride
+prbool
+acharsetoverride
+nsresult
+rv
+nscomptr
+nsidbfolderinfo
+folderinfo
+nscomptr
+nsimsgdatabase
+db
+rv
+getdbfolderinfoanddb
+getteraddrefs
+folderinfo
+getteraddrefs
+db
+nssucceeded
+rv
+rv
+folderinfo
+setcharactersetoverride
+acharsetoverride
+db
+commit
+nsmsgdbcommittype
+klargecommit
+mcharsetoverride
+acharsetoverride
+rv
+nsimethodimp
+nsmsgdbfolder
+gethasnewmessages
+prbool
+hasnewmessages
+hasnewmessages
+nserrornullpointer
+nsresult
+rv
+nsok
+hasnewmessages
+mnewmessages
+rv
+nsimethodimp
+nsmsgdbfolder
+sethasnewmessages
+prbool
+curnewmessages
+curnewmessages
+mnewmessages
+prbool
+oldnewmessages
+mnewmessages
+mnewmessages
+curnewmessages
+notifyboolpropertychanged
+knewmessagesatom
+oldnewmessages
+curnewmessages
+nsok
+nsimethodimp
+nsmsgdbfolder
+getgettingnewmessages
+prbool
+gettingnewmessages
+gettingnewmessages
+nserrornullpointer
+nsresult
+rv
+nsok
+gettingnewmessages
+mgettingnewmessages
+rv
+nsimethodimp
+nsmsgdbfolder
+setgettingnewmessages
+prbool
+gettingnewmessages
+mgettingnewmessages
+gettingnewmessages
+nsok
+nsimethodimp
+nsmsgdbfolder
+getfirstnewmessage
+nsimsgdbhdr
+firstnewmessage
+mdatabase
+nserrorfailure
+nsresult
+rv
+nsmsgkey
+key
+rv
+mdatabase
+getfirstnew
+key
+nsfailed
+rv
+rv
+nscomptr
+nsimsgdbhdr
+hdr
+rv
+mdatabase
+getmsghdrforkey
+key
+getteraddrefs
+hdr
+nsfailed
+rv
+rv
+mdatabase
+getmsghdrforkey
+key
+firstnewmessage
+nsimethodimp
+nsmsgdbfolder
+clearnewmessages
+nsresult
+rv
+nsok
+mdatabase
+rv
+mdatabase
+clearnewlist
+prtrue
+rv
+nsresult
+nsmsgdbfolder
+getfoldercacheelemfromfilespec
+nsifilespec
+filespec
+nsimsgfoldercacheelement
+cacheelement
+nsresult
+result
+filespec
+cacheelement
+nserrornullpointer
+nscomptr
+nsimsgfoldercache
+foldercache
+ifdef
+debugbienvenu
+prbool
+exists
+nsassertion
+nssucceeded
+filespec
+exists
+exists
+exists
+whoops
+file
+doesn
+exist
+mac
+will
+endif
+nscomptr
+nsimsgaccountmanager
+accountmgr
+dogetservice
+nsmsgaccountmanagercontractid
+result
+nssucceeded
+result
+result
+accountmgr
+getfoldercache
+getteraddrefs
+foldercache
+nssucceeded
+result
+foldercache
+nsxpidlcstring
+persistentpath
+filespec
+getpersistentdescriptorstring
+gettercopies
+persistentpath
+result
+foldercache
+getcacheelement
+persistentpath
+prfalse
+cacheelement
+result
+nsresult
+nsmsgdbfolder
+readdbfolderinfo
+prbool
+force
+nsresult
+result
+nserrorfailure
+minitializedfromcache
+nscomptr
+nsifilespec
+dbpath
+result
+getfoldercachekey
+getteraddrefs
+dbpath
+dbpath
+nscomptr
+nsimsgfoldercacheelement
+cacheelement
+result
+getfoldercacheelemfromfilespec
+dbpath
+getteraddrefs
+cacheelement
+nssucceeded
+result
+cacheelement
+result
+readfromfoldercacheelem
+cacheelement
+force
+minitializedfromcache
+nscomptr
+nsidbfolderinfo
+folderinfo
+nscomptr
+nsimsgdatabase
+db
+result
+getdbfolderinfoanddb
+getteraddrefs
+folderinfo
+getteraddrefs
+db
+nssucceeded
+result
+miscachable
+prtrue
+folderinfo
+minitializedfromcache
+folderinfo
+getflags
+print
+mflags
+ifdef
+debugbienvenu
+nsxpidlstring
+name
+getname
+gettercopies
+name
+nsassertion
+compare
+name
+klocalizedtrashname
+mflags
+msgfolderflagtrash
+lost
+trash
+flag
+endif
+minitializedfromcache
+prtrue
+folderinfo
+getnummessages
+mnumtotalmessages
+folderinfo
+getnumnewmessages
+mnumunreadmessages
+folderinfo
+getexpungedbytes
+print
+mexpungedbytes
+nsxpidlcstring
+utfname
+folderinfo
+getfoldername
+gettercopies
+utfname
+utfname
+isempty
+mname
+nsconvertutftoucs
+utfname
+get
+prbool
+defaultused
+folderinfo
+getcharacterset
+mcharset
+defaultused
+defaultused
+mcharset
+assign
+nsliteralstring
+folderinfo
+getcharactersetoverride
+mcharsetoverride
+db
+prbool
+hasnew
+nsresult
+rv
+rv
+db
+hasnew
+hasnew
+nsfailed
+rv
+rv
+hasnew
+mnumpendingunreadmessages
+clearflag
+msgfolderflaggotnew
+folderinfo
+nsnull
+db
+db
+close
+prfalse
+result
+nsresult
+nsmsgdbfolder
+sendflagnotifications
+nsisupports
+item
+pruint
+oldflags
+pruint
+newflags
+nsresult
+rv
+nsok
+pruint
+changedflags
+oldflags
+newflags
+changedflags
+msgflagread
+changedflags
+msgflagnew
+rv
+notifypropertyflagchanged
+item
+kstatusatom
+oldflags
+newflags
+rv
+setbiffstate
+nsmsgbiffstatenomail
+changedflags
+msgflagread
+msgflagreplied
+msgflagforwarded
+msgflagimapdeleted
+msgflagnew
+msgflagoffline
+rv
+notifypropertyflagchanged
+item
+kstatusatom
+oldflags
+newflags
+changedflags
+msgflagmarked
+rv
+notifypropertyflagchanged
+item
+kflaggedatom
+oldflags
+newflags
+rv
+nsimethodimp
+nsmsgdbfolder
+downloadmessagesforoffline
+nsisupportsarray
+messages
+nsimsgwindow
+nsassertion
+prfalse
+imap
+news
+need
+to
+override
+nsok
+nsimethodimp
+nsmsgdbfolder
+downloadallforoffline
+nsiurllistener
+listener
+nsimsgwindow
+msgwindow
+nsassertion
+prfalse
+imap
+news
+need
+to
+override
+nsok
+nsimethodimp
+nsmsgdbfolder
+getofflinestoreinputstream
+nsiinputstream
+stream
+nsresult
+rv
+nserrornullpointer
+mpath
+rv
+mpath
+getinputstream
+stream
+rv
+nsimethodimp
+nsmsgdbfolder
+getofflinefilestream
+nsmsgkey
+msgkey
+pruint
+offset
+pruint
+size
+nsiinputstream
+afilestream
+nsensurearg
+afilestream
+offset
+size
+nsresult
+rv
+nsxpidlcstring
+nativepath
+mpath
+getnativepath
+gettercopies
+nativepath
+nscomptr
+nsilocalfile
+localstore
+rv
+nsnewnativelocalfile
+nativepath
+prtrue
+getteraddrefs
+localstore
+nssucceeded
+rv
+localstore
+rv
+nsnewlocalfileinputstream
+afilestream
+localstore
+nssucceeded
+rv
+nsresult
+rv
+getdatabase
+nsnull
+nsensuresuccess
+rv
+nsok
+nscomptr
+nsimsgdbhdr
+hdr
+rv
+mdatabase
+getmsghdrforkey
+msgkey
+getteraddrefs
+hdr
+hdr
+nssucceeded
+rv
+hdr
+getmessageoffset
+offset
+hdr
+getofflinemessagesize
+size
+rv
+nsimethodimp
+nsmsgdbfolder
+getofflinestoreoutputstream
+nsioutputstream
+outputstream
+nsresult
+rv
+nserrornullpointer
+mpath
+nscomptr
+nsifilechannel
+filechannel
+docreateinstance
+nslocalfilechannelcontractid
+filechannel
+nscomptr
+nsilocalfile
+localstore
+rv
+nsnewlocalfile
+nativepath
+prtrue
+getteraddrefs
+localstore
+nssucceeded
+rv
+localstore
+rv
+filechannel
+init
+localstore
+prcreatefile
+prrdwr
+nsfailed
+rv
+rv
+rv
+filechannel
+open
+outputstream
+nsfailed
+rv
+rv
+endif
+nscomptr
+nsisupports
+supports
+nsfilespec
+filespec
+mpath
+getfilespec
+filespec
+rv
+nsnewiofilestream
+getteraddrefs
+supports
+filespec
+prwronly
+prcreatefile
+nsensuresuccess
+rv
+rv
+supports
+queryinterface
+nsgetiid
+nsioutputstream
+outputstream
+nscomptr
+nsirandomaccessstore
+seekable
+doqueryinterface
+supports
+seekable
+seekable
+seek
+nsiseekablestream
+nsseekend
+rv
+define
+summarysuffix
+msf
+define
+summarysuffixlen
+nsresult
+nsmsgdbfolder
+createfilespecfordb
+userleafname
+nsfilespec
+path
+nsifilespec
+dbfilespec
+nsensureargpointer
+dbfilespec
+nsensureargpointer
+userleafname
+nscautostring
+proposeddbname
+userleafname
+nsmsghashifnecessary
+proposeddbname
+proposeddbname
+summarysuffix
+path
+proposeddbname
+get
+path
+exists
+path
+makeunique
+proposeddbname
+path
+getleafname
+proposeddbname
+truncate
+proposeddbname
+length
+summarysuffixlen
+path
+setleafname
+proposeddbname
+get
+nsnewfilespecwithspec
+path
+dbfilespec
+nsok
+nsimethodimp
+nsmsgdbfolder
+getmsgdatabase
+nsimsgwindow
+amsgwindow
+nsimsgdatabase
+amsgdatabase
+getdatabase
+amsgwindow
+amsgdatabase
+mdatabase
+nserrornullpointer
+nsaddref
+amsgdatabase
+mdatabase
+nsok
+nsimethodimp
+nsmsgdbfolder
+setmsgdatabase
+nsimsgdatabase
+amsgdatabase
+mdatabase
+mdatabase
+commit
+nsmsgdbcommittype
+klargecommit
+mdatabase
+removelistener
+mdatabase
+clearcachedhdrs
+mdatabase
+amsgdatabase
+amsgdatabase
+amsgdatabase
+addlistener
+nsok
+nsimethodimp
+nsmsgdbfolder
+onreadchanged
+nsidbchangelistener
+ainstigator
+nsok
+nsimethodimp
+nsmsgdbfolder
+onjunkscorechanged
+nsidbchangelistener
+ainstigator
+notifyfolderevent
+mjunkstatuschangedatom
+nsok
+nsimethodimp
+nsmsgdbfolder
+onkeychange
+nsmsgkey
+akeychanged
+pruint
+aoldflags
+pruint
+anewflags
+nsidbchangelistener
+ainstigator
+nscomptr
+nsimsgdbhdr
+pmsgdbhdr
+nsresult
+rv
+mdatabase
+getmsghdrforkey
+akeychanged
+getteraddrefs
+pmsgdbhdr
+nssucceeded
+rv
+pmsgdbhdr
+nscomptr
+nsisupports
+msgsupports
+doqueryinterface
+pmsgdbhdr
+rv
+nssucceeded
+rv
+sendflagnotifications
+msgsupports
+aoldflags
+anewflags
+updatesummarytotals
+prtrue
+aoldflags
+msgflagnew
+anewflags
+msgflagnew
+checkwithnewmessagesstatus
+prfalse
+nsok
+nsresult
+nsmsgdbfolder
+checkwithnewmessagesstatus
+prbool
+messageadded
+nsresult
+rv
+prbool
+hasnewmessages
+messageadded
+sethasnewmessages
+prtrue
+mdatabase
+rv
+mdatabase
+hasnew
+hasnewmessages
+sethasnewmessages
+hasnewmessages
+nsok
+nsimethodimp
+nsmsgdbfolder
+onkeydeleted
+nsmsgkey
+akeychanged
+nsmsgkey
+aparentkey
+print
+aflags
+nsidbchangelistener
+ainstigator
+checkwithnewmessagesstatus
+prfalse
+onkeyaddedordeleted
+akeychanged
+aparentkey
+aflags
+ainstigator
+prfalse
+prtrue
+prtrue
+nsimethodimp
+nsmsgdbfolder
+onkeyadded
+nsmsgkey
+akeychanged
+nsmsgkey
+aparentkey
+print
+aflags
+nsidbchangelistener
+ainstigator
+aflags
+msgflagnew
+checkwithnewmessagesstatus
+prtrue
+onkeyaddedordeleted
+akeychanged
+aparentkey
+aflags
+ainstigator
+prtrue
+prtrue
+prtrue
+nsresult
+nsmsgdbfolder
+onkeyaddedordeleted
+nsmsgkey
+akeychanged
+nsmsgkey
+aparentkey
+print
+aflags
+nsidbchangelistener
+ainstigator
+prbool
+added
+prbool
+doflat
+prbool
+dothread
+nscomptr
+nsimsgdbhdr
+msgdbhdr
+nsresult
+rv
+mdatabase
+getmsghdrforkey
+akeychanged
+getteraddrefs
+msgdbhdr
+nssucceeded
+rv
+msgdbhdr
+nscomptr
+nsisupports
+msgsupports
+doqueryinterface
+msgdbhdr
+nscomptr
+nsisupports
+foldersupports
+rv
+queryinterface
+nsgetiid
+nsisupports
+getteraddrefs
+foldersupports
+msgsupports
+nssucceeded
+rv
+doflat
+added
+notifyitemadded
+foldersupports
+msgsupports
+flatmessageview
+notifyitemdeleted
+foldersupports
+msgsupports
+flatmessageview
+msgsupports
+foldersupports
+added
+notifyitemadded
+foldersupports
+msgsupports
+threadmessageview
+notifyitemdeleted
+foldersupports
+msgsupports
+threadmessageview
+updatesummarytotals
+prtrue
+nsok
+nsimethodimp
+nsmsgdbfolder
+onparentchanged
+nsmsgkey
+akeychanged
+nsmsgkey
+oldparent
+nsmsgkey
+newparent
+nsidbchangelistener
+ainstigator
+onkeyaddedordeleted
+akeychanged
+oldparent
+ainstigator
+prfalse
+prfalse
+prtrue
+onkeyaddedordeleted
+akeychanged
+newparent
+ainstigator
+prtrue
+prfalse
+prtrue
+nsok
+nsimethodimp
+nsmsgdbfolder
+onannouncergoingaway
+nsidbchangeannouncer
+instigator
+mdatabase
+mdatabase
+removelistener
+mdatabase
+nsnull
+nsok
+nsimethodimp
+nsmsgdbfolder
+getmanyheaderstodownload
+prbool
+retval
+print
+numtotalmessages
+nsensureargpointer
+retval
+mdatabase
+retval
+prtrue
+nssucceeded
+gettotalmessages
+prfalse
+numtotalmessages
+numtotalmessages
+retval
+prtrue
+retval
+prfalse
+nsok
+nsresult
+nsmsgdbfolder
+msgfitsdownloadcriteria
+nsmsgkey
+msgkey
+prbool
+result
+mdatabase
+nserrorfailure
+nsresult
+rv
+nscomptr
+nsimsgdbhdr
+hdr
+rv
+mdatabase
+getmsghdrforkey
+msgkey
+getteraddrefs
+hdr
+nsfailed
+rv
+rv
+hdr
+pruint
+msgflags
+hdr
+getflags
+msgflags
+msgflags
+msgflagoffline
+result
+prtrue
+nscomptr
+nsimsgincomingserver
+incomingserver
+rv
+getserver
+getteraddrefs
+incomingserver
+nssucceeded
+rv
+incomingserver
+prbool
+limitdownloadsize
+prfalse
+rv
+incomingserver
+getlimitofflinemessagesize
+limitdownloadsize
+nsensuresuccess
+rv
+rv
+limitdownloadsize
+print
+maxdownloadmsgsize
+pruint
+msgsize
+hdr
+getmessagesize
+msgsize
+rv
+incomingserver
+getmaxmessagesize
+maxdownloadmsgsize
+nsensuresuccess
+rv
+rv
+maxdownloadmsgsize
+msgsize
+pruint
+maxdownloadmsgsize
+result
+prfalse
+nsok
+nsimethodimp
+nsmsgdbfolder
+getsupportsoffline
+prbool
+asupportsoffline
+nsensureargpointer
+asupportsoffline
+nscomptr
+nsimsgincomingserver
+server
+nsresult
+rv
+getserver
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+server
+nserrorfailure
+print
+offlinesupportlevel
+rv
+server
+getofflinesupportlevel
+offlinesupportlevel
+nsensuresuccess
+rv
+rv
+asupportsoffline
+offlinesupportlevel
+offlinesupportlevelregular
+nsok
+nsimethodimp
+nsmsgdbfolder
+shouldstoremsgoffline
+nsmsgkey
+msgkey
+prbool
+result
+nsensurearg
+result
+pruint
+flags
+result
+prfalse
+getflags
+flags
+flags
+msgfolderflagoffline
+msgfitsdownloadcriteria
+msgkey
+result
+nsok
+nsimethodimp
+nsmsgdbfolder
+hasmsgoffline
+nsmsgkey
+msgkey
+prbool
+result
+nsensurearg
+result
+result
+prfalse
+mdatabase
+nserrorfailure
+nsresult
+rv
+nscomptr
+nsimsgdbhdr
+hdr
+rv
+mdatabase
+getmsghdrforkey
+msgkey
+getteraddrefs
+hdr
+nsfailed
+rv
+rv
+hdr
+pruint
+msgflags
+hdr
+getflags
+msgflags
+msgflags
+msgflagoffline
+result
+prtrue
+nsok
+nsimethodimp
+nsmsgdbfolder
+getflags
+pruint
+retval
+readdbfolderinfo
+prfalse
+retval
+mflags
+nsok
+nsimethodimp
+nsmsgdbfolder
+readfromfoldercacheelem
+nsimsgfoldercacheelement
+element
+nsresult
+rv
+nsok
+nsxpidlcstring
+charset
+element
+getintproperty
+flags
+print
+mflags
+prbool
+persistelided
+prtrue
+rv
+getpersistelided
+persistelided
+nsensuresuccess
+rv
+rv
+persistelided
+mflags
+msgfolderflagelided
+element
+getintproperty
+totalmsgs
+mnumtotalmessages
+element
+getintproperty
+totalunreadmsgs
+mnumunreadmessages
+element
+getintproperty
+pendingunreadmsgs
+mnumpendingunreadmessages
+element
+getintproperty
+pendingmsgs
+mnumpendingtotalmessages
+element
+getintproperty
+expungedbytes
+print
+mexpungedbytes
+element
+getintproperty
+foldersize
+print
+mfoldersize
+element
+getstringproperty
+charset
+gettercopies
+charset
+ifdef
+debugbienvenu
+uri
+geturi
+uri
+printf
+read
+total
+ld
+mnumtotalmessages
+uri
+prfree
+uri
+endif
+mcharset
+assignwithconversion
+charset
+get
+minitializedfromcache
+prtrue
+rv
+nsresult
+nsmsgdbfolder
+getfoldercachekey
+nsifilespec
+afilespec
+nsresult
+rv
+nscomptr
+nsifilespec
+path
+rv
+getpath
+getteraddrefs
+path
+rv
+nsnewfilespec
+afilespec
+nssucceeded
+rv
+afilespec
+nsifilespec
+dbpath
+afilespec
+dbpath
+fromfilespec
+path
+prbool
+isserver
+prfalse
+getisserver
+isserver
+isserver
+nsfilespec
+foldername
+dbpath
+getfilespec
+foldername
+nslocalfoldersummaryspec
+summaryspec
+foldername
+dbpath
+setfromfilespec
+summaryspec
+rv
+nsresult
+nsmsgdbfolder
+flushtofoldercache
+nsresult
+rv
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nssucceeded
+rv
+accountmanager
+nscomptr
+nsimsgfoldercache
+foldercache
+rv
+accountmanager
+getfoldercache
+getteraddrefs
+foldercache
+nssucceeded
+rv
+foldercache
+rv
+writetofoldercache
+foldercache
+prfalse
+rv
+nsimethodimp
+nsmsgdbfolder
+writetofoldercache
+nsimsgfoldercache
+foldercache
+prbool
+deep
+nscomptr
+nsienumerator
+aenumerator
+nsresult
+rv
+foldercache
+nscomptr
+nsimsgfoldercacheelement
+cacheelement
+nscomptr
+nsifilespec
+dbpath
+rv
+getfoldercachekey
+getteraddrefs
+dbpath
+ifdef
+debugbienvenu
+prbool
+exists
+nsassertion
+nssucceeded
+dbpath
+exists
+exists
+exists
+file
+spec
+we
+re
+adding
+to
+cache
+should
+exist
+endif
+nssucceeded
+rv
+dbpath
+nsxpidlcstring
+persistentpath
+dbpath
+getpersistentdescriptorstring
+gettercopies
+persistentpath
+rv
+foldercache
+getcacheelement
+persistentpath
+prtrue
+getteraddrefs
+cacheelement
+nssucceeded
+rv
+cacheelement
+rv
+writetofoldercacheelem
+cacheelement
+deep
+rv
+rv
+getsubfolders
+getteraddrefs
+aenumerator
+nsfailed
+rv
+rv
+nscomptr
+nsisupports
+aitem
+rv
+aenumerator
+first
+nsfailed
+rv
+nsok
+nssucceeded
+rv
+rv
+aenumerator
+currentitem
+getteraddrefs
+aitem
+nsfailed
+rv
+nscomptr
+nsimsgfolder
+amsgfolder
+doqueryinterface
+aitem
+rv
+nssucceeded
+rv
+foldercache
+rv
+amsgfolder
+writetofoldercache
+foldercache
+prtrue
+nsfailed
+rv
+rv
+aenumerator
+next
+nsfailed
+rv
+rv
+nsok
+rv
+nsimethodimp
+nsmsgdbfolder
+writetofoldercacheelem
+nsimsgfoldercacheelement
+element
+nsresult
+rv
+nsok
+element
+setintproperty
+flags
+print
+mflags
+element
+setintproperty
+totalmsgs
+mnumtotalmessages
+element
+setintproperty
+totalunreadmsgs
+mnumunreadmessages
+element
+setintproperty
+pendingunreadmsgs
+mnumpendingunreadmessages
+element
+setintproperty
+pendingmsgs
+mnumpendingtotalmessages
+element
+setintproperty
+expungedbytes
+mexpungedbytes
+element
+setintproperty
+foldersize
+mfoldersize
+nscautostring
+mcharsetc
+mcharsetc
+assignwithconversion
+mcharset
+element
+setstringproperty
+charset
+mcharsetc
+get
+ifdef
+debugbienvenu
+uri
+geturi
+uri
+printf
+writing
+total
+ld
+mnumtotalmessages
+uri
+prfree
+uri
+endif
+rv
+nsimethodimp
+nsmsgdbfolder
+setflag
+pruint
+flag
+readdbfolderinfo
+prfalse
+nsmsgfolder
+setflag
+flag
+nsimethodimp
+nsmsgdbfolder
+addmessagedispositionstate
+nsimsgdbhdr
+amessage
+nsmsgdispositionstate
+adispositionflag
+nsensureargpointer
+amessage
+nsresult
+rv
+getdatabase
+nsnull
+nsensuresuccess
+rv
+nsok
+nsmsgkey
+msgkey
+amessage
+getmessagekey
+msgkey
+adispositionflag
+nsimsgfolder
+nsmsgdispositionstatereplied
+mdatabase
+markreplied
+msgkey
+prtrue
+nsnull
+adispositionflag
+nsimsgfolder
+nsmsgdispositionstateforwarded
+mdatabase
+markforwarded
+msgkey
+prtrue
+nsnull
+nsok
+nsimethodimp
+nsmsgdbfolder
+markallmessagesread
+nsresult
+rv
+getdatabase
+nsnull
+nssucceeded
+rv
+enablenotifications
+allmessagecountnotifications
+prfalse
+prtrue
+rv
+mdatabase
+markallread
+nsnull
+enablenotifications
+allmessagecountnotifications
+prtrue
+prtrue
+mdatabase
+setsummaryvalid
+prtrue
+mdatabase
+commit
+nsmsgdbcommittype
+klargecommit
+rv
+nsimethodimp
+nsmsgdbfolder
+markthreadread
+nsimsgthread
+thread
+nsresult
+rv
+getdatabase
+nsnull
+nssucceeded
+rv
+mdatabase
+markthreadread
+thread
+nsnull
+nsnull
+rv
+nsimethodimp
+nsmsgdbfolder
+onstartrunningurl
+nsiuri
+aurl
+nsprecondition
+aurl
+just
+sanity
+check
+nsok
+nsimethodimp
+nsmsgdbfolder
+onstoprunningurl
+nsiuri
+aurl
+nsresult
+aexitcode
+nsprecondition
+aurl
+just
+sanity
+check
+nscomptr
+nsimsgmailnewsurl
+mailurl
+doqueryinterface
+aurl
+mailurl
+prbool
+updatingfolder
+prfalse
+nssucceeded
+mailurl
+getupdatingfolder
+updatingfolder
+updatingfolder
+notifyfolderevent
+mfolderloadedatom
+mailurl
+unregisterlistener
+nsok
+nsimethodimp
+nsmsgdbfolder
+getretentionsettings
+nsimsgretentionsettings
+settings
+nsensureargpointer
+settings
+nsresult
+rv
+nsok
+mretentionsettings
+getdatabase
+nsnull
+mdatabase
+rv
+mdatabase
+getmsgretentionsettings
+getteraddrefs
+mretentionsettings
+nssucceeded
+rv
+mretentionsettings
+prbool
+useserverdefaults
+mretentionsettings
+getuseserverdefaults
+useserverdefaults
+useserverdefaults
+nscomptr
+nsimsgincomingserver
+incomingserver
+rv
+getserver
+getteraddrefs
+incomingserver
+nssucceeded
+rv
+incomingserver
+incomingserver
+getretentionsettings
+getteraddrefs
+mretentionsettings
+settings
+mretentionsettings
+nsifaddref
+settings
+rv
+nsimethodimp
+nsmsgdbfolder
+setretentionsettings
+nsimsgretentionsettings
+settings
+mretentionsettings
+settings
+nsok
+nsimethodimp
+nsmsgdbfolder
+getdownloadsettings
+nsimsgdownloadsettings
+settings
+nsensureargpointer
+settings
+nsresult
+rv
+nsok
+mdownloadsettings
+getdatabase
+nsnull
+mdatabase
+rv
+mdatabase
+getmsgdownloadsettings
+getteraddrefs
+mdownloadsettings
+nssucceeded
+rv
+mdownloadsettings
+prbool
+useserverdefaults
+mdownloadsettings
+getuseserverdefaults
+useserverdefaults
+useserverdefaults
+nscomptr
+nsimsgincomingserver
+incomingserver
+rv
+getserver
+getteraddrefs
+incomingserver
+nssucceeded
+rv
+incomingserver
+incomingserver
+getdownloadsettings
+getteraddrefs
+mdownloadsettings
+settings
+mdownloadsettings
+nsifaddref
+settings
+rv
+nsimethodimp
+nsmsgdbfolder
+setdownloadsettings
+nsimsgdownloadsettings
+settings
+mdownloadsettings
+settings
+nsok
+nsimethodimp
+nsmsgdbfolder
+iscommandenabled
+command
+prbool
+result
+nsensureargpointer
+result
+result
+prtrue
+nsok
+nsresult
+nsmsgdbfolder
+notifystoreclosedallheaders
+nsok
+nsresult
+nsmsgdbfolder
+writestartofnewlocalmessage
+nscautostring
+result
+ct
+pruint
+writecount
+timet
+now
+time
+timet
+ct
+ctime
+now
+ct
+result
+from
+result
+ct
+result
+msglinebreak
+nscomptr
+nsiseekablestream
+seekable
+pruint
+curstorepos
+mofflineheader
+seekable
+doqueryinterface
+mtempmessagestream
+seekable
+seekable
+tell
+curstorepos
+mofflineheader
+setmessageoffset
+curstorepos
+mtempmessagestream
+write
+result
+get
+result
+length
+writecount
+seekable
+seekable
+seek
+prseekcur
+seekable
+tell
+curstorepos
+mofflineheader
+setstatusoffset
+curstorepos
+result
+mozilla
+status
+result
+msglinebreak
+mtempmessagestream
+write
+result
+get
+result
+length
+writecount
+result
+mozilla
+status
+result
+msglinebreak
+nsresult
+rv
+mtempmessagestream
+write
+result
+get
+result
+length
+writecount
+rv
+nsresult
+nsmsgdbfolder
+startnewofflinemessage
+nsresult
+rv
+getofflinestoreoutputstream
+getteraddrefs
+mtempmessagestream
+nssucceeded
+rv
+writestartofnewlocalmessage
+mnumofflinemsglines
+rv
+nsresult
+nsmsgdbfolder
+endnewofflinemessage
+nscomptr
+nsirandomaccessstore
+seekable
+pruint
+curstorepos
+pruint
+messageoffset
+nsmsgkey
+messagekey
+nsresult
+rv
+getdatabase
+nsnull
+nsensuresuccess
+rv
+rv
+mofflineheader
+getmessagekey
+messagekey
+mtempmessagestream
+seekable
+doqueryinterface
+mtempmessagestream
+mdatabase
+markoffline
+messagekey
+prtrue
+nsnull
+seekable
+seekable
+seek
+prseekcur
+seekable
+tell
+curstorepos
+mofflineheader
+getmessageoffset
+messageoffset
+mofflineheader
+setofflinemessagesize
+curstorepos
+messageoffset
+mofflineheader
+setlinecount
+mnumofflinemsglines
+mofflineheader
+nsnull
+nsok
+nsresult
+nsmsgdbfolder
+compactofflinestore
+nsimsgwindow
+inwindow
+nsresult
+rv
+nscomptr
+nsimsgfoldercompactor
+foldercompactor
+docreateinstance
+nsmsgofflinestorecompactorcontractid
+rv
+nssucceeded
+rv
+foldercompactor
+rv
+foldercompactor
+compact
+inwindow
+rv
+nsresult
+nsmsgdbfolder
+autocompact
+nsimsgwindow
+awindow
+nsensureargpointer
+awindow
+prbool
+prompt
+nsresult
+rv
+getpromptpurgethreshold
+prompt
+nsensuresuccess
+rv
+rv
+prtime
+timenow
+prnow
+prtime
+timeafteronehouroflastpurgecheck
+lladd
+timeafteronehouroflastpurgecheck
+gtimeoflastpurgecheck
+onehour
+llcmp
+timeafteronehouroflastpurgecheck
+timenow
+prompt
+gtimeoflastpurgecheck
+timenow
+nscomptr
+nsimsgaccountmanager
+accountmgr
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nssucceeded
+rv
+nscomptr
+nsisupportsarray
+allservers
+accountmgr
+getallservers
+getteraddrefs
+allservers
+nsensuresuccess
+rv
+rv
+pruint
+numservers
+serverindex
+rv
+allservers
+count
+numservers
+print
+offlinesupportlevel
+numservers
+nscomptr
+nsimsgincomingserver
+server
+doqueryelementat
+allservers
+serverindex
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupportsarray
+folderarray
+nscomptr
+nsisupportsarray
+offlinefolderarray
+nsnewisupportsarray
+getteraddrefs
+folderarray
+nsnewisupportsarray
+getteraddrefs
+offlinefolderarray
+print
+totalexpungedbytes
+print
+offlineexpungedbytes
+print
+localexpungedbytes
+nscomptr
+nsifolder
+rootfolder
+rv
+server
+getrootfolder
+getteraddrefs
+rootfolder
+nssucceeded
+rv
+rootfolder
+rv
+server
+getofflinesupportlevel
+offlinesupportlevel
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupportsarray
+alldescendents
+nsnewisupportsarray
+getteraddrefs
+alldescendents
+rootfolder
+listdescendents
+alldescendents
+pruint
+cnt
+rv
+alldescendents
+count
+cnt
+nsensuresuccess
+rv
+rv
+pruint
+expungedbytes
+offlinesupportlevel
+pruint
+flags
+pruint
+cnt
+nscomptr
+nsisupports
+supports
+getteraddrefs
+alldescendents
+elementat
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+supports
+rv
+expungedbytes
+folder
+getflags
+flags
+flags
+msgfolderflagoffline
+folder
+getexpungedbytes
+expungedbytes
+expungedbytes
+offlinefolderarray
+appendelement
+supports
+offlineexpungedbytes
+expungedbytes
+pruint
+cnt
+nscomptr
+nsisupports
+supports
+getteraddrefs
+alldescendents
+elementat
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+supports
+rv
+folder
+getexpungedbytes
+expungedbytes
+expungedbytes
+folderarray
+appendelement
+supports
+localexpungedbytes
+expungedbytes
+server
+doqueryelementat
+allservers
+serverindex
+serverindex
+numservers
+totalexpungedbytes
+localexpungedbytes
+offlineexpungedbytes
+print
+purgethreshold
+rv
+getpurgethreshold
+purgethreshold
+nsensuresuccess
+rv
+rv
+totalexpungedbytes
+purgethreshold
+nsxpidlstring
+confirmstring
+prbool
+oktocompact
+prfalse
+rv
+getstringfrombundle
+autocompactallfolders
+gettercopies
+confirmstring
+nssucceeded
+rv
+confirmstring
+throwconfirmationprompt
+awindow
+confirmstring
+get
+oktocompact
+oktocompact
+localexpungedbytes
+nscomptr
+nsimsgfolder
+msgfolder
+doqueryelementat
+folderarray
+rv
+msgfolder
+nssucceeded
+rv
+offlineexpungedbytes
+msgfolder
+compactall
+nsnull
+awindow
+folderarray
+prtrue
+offlinefolderarray
+msgfolder
+compactall
+nsnull
+awindow
+folderarray
+prfalse
+nsnull
+offlineexpungedbytes
+compactallofflinestores
+awindow
+offlinefolderarray
+rv
+nsimethodimp
+nsmsgdbfolder
+compactallofflinestores
+nsimsgwindow
+awindow
+nsisupportsarray
+aofflinefolderarray
+nsresult
+rv
+nsok
+nscomptr
+nsimsgfoldercompactor
+foldercompactor
+foldercompactor
+docreateinstance
+nsmsgofflinestorecompactorcontractid
+rv
+nssucceeded
+rv
+foldercompactor
+rv
+foldercompactor
+compactall
+aofflinefolderarray
+awindow
+prfalse
+nsnull
+rv
+nsresult
+nsmsgdbfolder
+getpromptpurgethreshold
+prbool
+aprompt
+nsensurearg
+aprompt
+nsresult
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nssucceeded
+rv
+prefbranch
+rv
+prefbranch
+getboolpref
+prefmailpromptpurgethreshold
+aprompt
+nsfailed
+rv
+aprompt
+prfalse
+rv
+nsok
+rv
+nsresult
+nsmsgdbfolder
+getpurgethreshold
+print
+athreshold
+nsensurearg
+athreshold
+nsresult
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nssucceeded
+rv
+prefbranch
+rv
+prefbranch
+getintpref
+prefmailpurgethreshold
+athreshold
+nsfailed
+rv
+athreshold
+rv
+nsok
+rv
+nsimethodimp
+nsmsgdbfolder
+matchorchangefilterdestination
+nsimsgfolder
+newfolder
+prbool
+caseinsensitive
+prbool
+found
+nsresult
+rv
+nsok
+nsxpidlcstring
+olduri
+rv
+geturi
+gettercopies
+olduri
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+newuri
+newfolder
+rv
+newfolder
+geturi
+gettercopies
+newuri
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgfilterlist
+filterlist
+nscomptr
+nsimsgaccountmanager
+accountmgr
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nssucceeded
+rv
+nscomptr
+nsisupportsarray
+allservers
+rv
+accountmgr
+getallservers
+getteraddrefs
+allservers
+nssucceeded
+rv
+allservers
+pruint
+numservers
+rv
+allservers
+count
+numservers
+pruint
+serverindex
+serverindex
+numservers
+serverindex
+nscomptr
+nsimsgincomingserver
+server
+doqueryelementat
+allservers
+serverindex
+rv
+server
+nssucceeded
+rv
+prbool
+canhavefilters
+rv
+server
+getcanhavefilters
+canhavefilters
+nssucceeded
+rv
+canhavefilters
+rv
+server
+getfilterlist
+nsnull
+getteraddrefs
+filterlist
+filterlist
+nssucceeded
+rv
+rv
+filterlist
+matchorchangefiltertarget
+olduri
+newuri
+caseinsensitive
+found
+found
+newfolder
+newuri
+rv
+filterlist
+savetodefaultfile
+rv
+nsimethodimp
+nsmsgdbfolder
+getdbtransferinfo
+nsidbfolderinfo
+atransferinfo
+nscomptr
+nsidbfolderinfo
+dbfolderinfo
+nscomptr
+nsimsgdatabase
+db
+getdbfolderinfoanddb
+getteraddrefs
+dbfolderinfo
+getteraddrefs
+db
+dbfolderinfo
+dbfolderinfo
+gettransferinfo
+atransferinfo
+nsok
+nsimethodimp
+nsmsgdbfolder
+setdbtransferinfo
+nsidbfolderinfo
+atransferinfo
+nsensurearg
+atransferinfo
+nscomptr
+nsidbfolderinfo
+dbfolderinfo
+nscomptr
+nsimsgdatabase
+db
+getmsgdatabase
+nsnull
+getteraddrefs
+db
+db
+db
+getdbfolderinfo
+getteraddrefs
+dbfolderinfo
+dbfolderinfo
+dbfolderinfo
+initfromtransferinfo
+atransferinfo
+nsok
+nsimethodimp
+nsmsgdbfolder
+getstringproperty
+propertyname
+propertyvalue
+nsensureargpointer
+propertyname
+nsensureargpointer
+propertyvalue
+nscomptr
+nsifilespec
+dbpath
+nsresult
+rv
+getfoldercachekey
+getteraddrefs
+dbpath
+dbpath
+nscomptr
+nsimsgfoldercacheelement
+cacheelement
+rv
+getfoldercacheelemfromfilespec
+dbpath
+getteraddrefs
+cacheelement
+cacheelement
+rv
+cacheelement
+getstringproperty
+propertyname
+propertyvalue
+nsfailed
+rv
+nscomptr
+nsidbfolderinfo
+folderinfo
+nscomptr
+nsimsgdatabase
+db
+prbool
+exists
+rv
+dbpath
+exists
+exists
+nsfailed
+rv
+exists
+nsmsgerrorfoldermissing
+rv
+getdbfolderinfoanddb
+getteraddrefs
+folderinfo
+getteraddrefs
+db
+nssucceeded
+rv
+rv
+folderinfo
+getcharptrproperty
+propertyname
+propertyvalue
+rv
+nsimethodimp
+nsmsgdbfolder
+setstringproperty
+propertyname
+propertyvalue
+nsensureargpointer
+propertyname
+nsensureargpointer
+propertyvalue
+nscomptr
+nsifilespec
+dbpath
+getfoldercachekey
+getteraddrefs
+dbpath
+dbpath
+nscomptr
+nsimsgfoldercacheelement
+cacheelement
+getfoldercacheelemfromfilespec
+dbpath
+getteraddrefs
+cacheelement
+cacheelement
+cacheelement
+setstringproperty
+propertyname
+propertyvalue
+nscomptr
+nsidbfolderinfo
+folderinfo
+nscomptr
+nsimsgdatabase
+db
+nsresult
+rv
+getdbfolderinfoanddb
+getteraddrefs
+folderinfo
+getteraddrefs
+db
+nssucceeded
+rv
+folderinfo
+setcharptrproperty
+propertyname
+propertyvalue
+db
+commit
+nsmsgdbcommittype
+klargecommit
+nsok
+nsresult
+nsmsgdbfolder
+spamfilterclassifymessage
+auri
+nsimsgwindow
+amsgwindow
+nsijunkmailplugin
+ajunkmailplugin
+ajunkmailplugin
+classifymessage
+auri
+amsgwindow
+nsnull
+nsresult
+nsmsgdbfolder
+spamfilterclassifymessages
+auriarray
+pruint
+auricount
+nsimsgwindow
+amsgwindow
+nsijunkmailplugin
+ajunkmailplugin
+ajunkmailplugin
+classifymessages
+auricount
+auriarray
+amsgwindow
+nsnull
+nsimethodimp
+nsmsgdbfolder
+callfilterplugins
+nsimsgwindow
+amsgwindow
+nscomptr
+nsimsgincomingserver
+server
+nscomptr
+nsispamsettings
+spamsettings
+nscomptr
+nsiabmdbdirectory
+whitelistdirectory
+nscomptr
+nsimsgheaderparser
+headerparser
+prbool
+usewhitelist
+prfalse
+print
+spamlevel
+nsxpidlcstring
+whitelistaburi
+mflags
+msgfolderflagjunk
+msgfolderflagtrash
+msgfolderflagsentmail
+msgfolderflagqueue
+msgfolderflagdrafts
+msgfolderflagtemplates
+msgfolderflagimappublic
+msgfolderflagimapotheruser
+nsok
+nsresult
+rv
+getserver
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+rv
+server
+getspamsettings
+getteraddrefs
+spamsettings
+nscomptr
+nsimsgfilterplugin
+filterplugin
+server
+getspamfilterplugin
+getteraddrefs
+filterplugin
+filterplugin
+nsok
+nsensuresuccess
+rv
+rv
+spamsettings
+getlevel
+spamlevel
+spamlevel
+nsok
+nscomptr
+nsimsgmailsession
+mailsession
+dogetservice
+nsmsgmailsessioncontractid
+rv
+nsensuresuccess
+rv
+rv
+mdatabase
+rv
+getdatabase
+nsnull
+nsensuresuccess
+rv
+rv
+nsmsgkeyarray
+newmessagekeys
+rv
+mdatabase
+getnewlist
+newmessagekeys
+nsensuresuccess
+rv
+rv
+newmessagekeys
+newmessagekeys
+getsize
+nsok
+spamsettings
+getusewhitelist
+usewhitelist
+usewhitelist
+spamsettings
+getwhitelistaburi
+gettercopies
+whitelistaburi
+nsensuresuccess
+rv
+rv
+whitelistaburi
+isempty
+nscomptr
+nsirdfservice
+rdfservice
+dogetservice
+rdf
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+resource
+rv
+rdfservice
+getresource
+whitelistaburi
+getteraddrefs
+resource
+nsensuresuccess
+rv
+rv
+whitelistdirectory
+doqueryinterface
+resource
+rv
+nsensuresuccess
+rv
+rv
+headerparser
+dogetservice
+nsmailnewsmimeheaderparsercontractid
+rv
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+uri
+nsmsgkeyarray
+keystoclassify
+pruint
+numnewmessages
+newmessagekeys
+getsize
+pruint
+numnewmessages
+nsxpidlcstring
+junkscore
+nscomptr
+nsimsgdbhdr
+msghdr
+nsmsgkey
+msgkey
+newmessagekeys
+getat
+rv
+mdatabase
+getmsghdrforkey
+msgkey
+getteraddrefs
+msghdr
+nssucceeded
+rv
+msghdr
+getstringproperty
+junkscore
+gettercopies
+junkscore
+junkscore
+isempty
+whitelistdirectory
+nssucceeded
+rv
+prbool
+cardexists
+prfalse
+nsxpidlcstring
+author
+nsxpidlcstring
+authoremailaddress
+msghdr
+getauthor
+gettercopies
+author
+rv
+headerparser
+extractheaderaddressmailboxes
+nsnull
+author
+get
+gettercopies
+authoremailaddress
+nssucceeded
+rv
+rv
+whitelistdirectory
+hascardforemailaddress
+authoremailaddress
+cardexists
+nssucceeded
+rv
+cardexists
+mdatabase
+setstringproperty
+msgkey
+junkscore
+mdatabase
+setstringproperty
+msgkey
+junkscoreorigin
+plugin
+keystoclassify
+add
+newmessagekeys
+getat
+keystoclassify
+getsize
+pruint
+nummessagestoclassify
+keystoclassify
+getsize
+messageuris
+prmalloc
+nummessagestoclassify
+messageuris
+nserroroutofmemory
+pruint
+msgindex
+msgindex
+nummessagestoclassify
+msgindex
+rv
+generatemessageuri
+keystoclassify
+getat
+msgindex
+messageuris
+msgindex
+nsfailed
+rv
+nswarning
+nsmsgdbfolder
+callfilterplugins
+could
+generate
+uri
+message
+nscomptr
+nsijunkmailplugin
+junkmailplugin
+doqueryinterface
+filterplugin
+rv
+spamfilterclassifymessages
+messageuris
+nummessagestoclassify
+amsgwindow
+junkmailplugin
+pruint
+freeindex
+freeindex
+nummessagestoclassify
+freeindex
+prfree
+messageuris
+freeindex
+prfree
+messageuris
+nsdeletexpcom
+newmessagekeys
+rv
+nsimethodimp
+nsmsgdbfolder
+getlastmessageloaded
+nsmsgkey
+amsgkey
+nsensureargpointer
+amsgkey
+amsgkey
+mlastmessageloaded
+nsok
+nsimethodimp
+nsmsgdbfolder
+setlastmessageloaded
+nsmsgkey
+amsgkey
+mlastmessageloaded
+amsgkey
+nsok
\ No newline at end of file
@@ -0,0 +1,743 @@
+msgcore
+prlog
+nsmsggrouprecord
+plstr
+prmem
+prprf
+nsescape
+nscrt
+define
+mkoutofmemory
+pruint
+fisgroup
+pruint
+fexpanded
+pruint
+fcatcont
+pruint
+fvirtual
+pruint
+fdirty
+pruint
+fdescendentsloaded
+pruint
+fhtmlokgroup
+pruint
+fhtmloktree
+pruint
+fneedextrainfo
+pruint
+fdoesnotexist
+pruint
+runtimeflags
+fdirty
+fdescendentsloaded
+fexpanded
+nsmsggrouprecord
+groupnamecompare
+name
+name
+delimiter
+prbool
+caseinsensitive
+caseinsensitive
+name
+nscrt
+toupper
+name
+nscrt
+toupper
+name
+name
+name
+name
+name
+name
+name
+name
+name
+name
+name
+delimiter
+name
+delimiter
+caseinsensitive
+nscrt
+toupper
+name
+nscrt
+toupper
+name
+name
+name
+nsmsggrouprecord
+nsmsggrouprecord
+create
+nsmsggrouprecord
+parent
+partname
+print
+atime
+print
+uniqueid
+print
+fileoffset
+nsmsggrouprecord
+result
+nsmsggrouprecord
+parent
+partname
+atime
+uniqueid
+fileoffset
+result
+partname
+result
+mpartname
+result
+result
+result
+initializesibling
+result
+mozdeclctorcounter
+nsmsggrouprecord
+nsmsggrouprecord
+nsmsggrouprecord
+nsmsggrouprecord
+parent
+partname
+print
+atime
+print
+uniqueid
+print
+fileoffset
+delimiter
+mozcountctor
+nsmsggrouprecord
+length
+mprettyname
+mparent
+parent
+mchildren
+msibling
+mflags
+mpartname
+maddtime
+atime
+muniqueid
+uniqueid
+mfileoffset
+fileoffset
+mdelimiter
+delimiter
+partname
+length
+plstrlen
+partname
+mpartname
+length
+mpartname
+mparent
+plstrcpy
+mpartname
+partname
+nsmsggrouprecord
+nsmsggrouprecord
+mozcountdtor
+nsmsggrouprecord
+mpartname
+mpartname
+mprettyname
+mprettyname
+mchildren
+mchildren
+mchildren
+mparent
+nsmsggrouprecord
+ptr
+ptr
+mparent
+mchildren
+ptr
+ptr
+ptr
+msibling
+ptr
+ptr
+msibling
+nsmsggrouprecord
+initializesibling
+mparent
+prassert
+mpartname
+nsmsggrouprecord
+ptr
+ptr
+mparent
+mchildren
+ptr
+ptr
+ptr
+msibling
+comp
+groupnamecompare
+ptr
+mpartname
+mpartname
+mdelimiter
+isimapgrouprecord
+prassert
+comp
+comp
+msibling
+ptr
+ptr
+nsmsggrouprecord
+nsmsggrouprecord
+finddescendant
+name
+name
+name
+ptr
+plstrchr
+name
+mdelimiter
+ptr
+ptr
+nsmsggrouprecord
+child
+child
+mchildren
+child
+child
+child
+msibling
+plstrcmp
+child
+mpartname
+name
+ptr
+ptr
+mdelimiter
+child
+child
+finddescendant
+ptr
+child
+nsmsggrouprecord
+nsmsggrouprecord
+getsiblingorancestorsibling
+msibling
+msibling
+mparent
+mparent
+getsiblingorancestorsibling
+nsmsggrouprecord
+nsmsggrouprecord
+getnextalphabetic
+nsmsggrouprecord
+result
+mchildren
+result
+mchildren
+result
+getsiblingorancestorsibling
+ifdef
+debugslowandparanoid
+result
+ptr
+getfullname
+ptr
+result
+getfullname
+prassert
+groupnamecompare
+ptr
+ptr
+ptr
+ptr
+endif
+result
+nsmsggrouprecord
+nsmsggrouprecord
+getnextalphabeticnocategories
+iscategorycontainer
+getsiblingorancestorsibling
+getnextalphabetic
+nsmsggrouprecord
+getfullname
+length
+nsmsggrouprecord
+ptr
+ptr
+ptr
+ptr
+ptr
+mparent
+ptr
+mpartname
+length
+plstrlen
+ptr
+mpartname
+prassert
+length
+length
+result
+length
+result
+suckinname
+result
+prassert
+plstrlen
+result
+length
+result
+nsmsggrouprecord
+suckinname
+ptr
+mparent
+mparent
+mpartname
+ptr
+mparent
+suckinname
+ptr
+ptr
+mdelimiter
+plstrcpy
+ptr
+mpartname
+ptr
+plstrlen
+ptr
+nsmsggrouprecord
+setprettyname
+name
+name
+mprettyname
+mflags
+fdirty
+mprettyname
+mprettyname
+name
+name
+length
+plstrlen
+name
+mprettyname
+length
+mprettyname
+mkoutofmemory
+plstrcpy
+mprettyname
+name
+prbool
+nsmsggrouprecord
+iscategory
+getcategorycontainer
+prbool
+nsmsggrouprecord
+iscategorycontainer
+mflags
+fcatcont
+prbool
+nsmsggrouprecord
+needsextrainfo
+mflags
+fneedextrainfo
+nsmsggrouprecord
+setneedsextrainfo
+prbool
+value
+tweakflag
+fneedextrainfo
+value
+nsmsggrouprecord
+setiscategorycontainer
+prbool
+value
+value
+getcategorycontainer
+tweakflag
+fcatcont
+value
+nsmsggrouprecord
+nsmsggrouprecord
+getcategorycontainer
+iscategorycontainer
+nsmsggrouprecord
+ptr
+mparent
+ptr
+ptr
+ptr
+mparent
+ptr
+iscategorycontainer
+ptr
+nsresult
+nsmsggrouprecord
+isvirtual
+prbool
+retval
+retval
+mflags
+fvirtual
+nsok
+nsresult
+nsmsggrouprecord
+setisvirtual
+prbool
+value
+tweakflag
+fvirtual
+value
+nsok
+prbool
+nsmsggrouprecord
+isexpanded
+mflags
+fexpanded
+nsmsggrouprecord
+setisexpanded
+prbool
+value
+tweakflag
+fexpanded
+value
+prbool
+nsmsggrouprecord
+ishtmlokgroup
+mflags
+fhtmlokgroup
+nsmsggrouprecord
+setishtmlokgroup
+prbool
+value
+tweakflag
+fhtmlokgroup
+value
+prbool
+nsmsggrouprecord
+ishtmloktree
+mflags
+fhtmloktree
+nsmsggrouprecord
+setishtmloktree
+prbool
+value
+tweakflag
+fhtmloktree
+value
+prbool
+nsmsggrouprecord
+isgroup
+mflags
+fisgroup
+nsmsggrouprecord
+setisgroup
+prbool
+value
+tweakflag
+fisgroup
+value
+prbool
+nsmsggrouprecord
+isdescendentsloaded
+mflags
+fdescendentsloaded
+nsmsggrouprecord
+setisdescendentsloaded
+prbool
+value
+prassert
+value
+tweakflag
+fdescendentsloaded
+prtrue
+nsmsggrouprecord
+child
+child
+mchildren
+child
+child
+child
+msibling
+child
+setisdescendentsloaded
+value
+prbool
+nsmsggrouprecord
+doesnotexistonserver
+mflags
+fdoesnotexist
+nsmsggrouprecord
+setdoesnotexistonserver
+prbool
+value
+value
+tweakflag
+fisgroup
+prfalse
+tweakflag
+fdoesnotexist
+value
+nsmsggrouprecord
+tweakflag
+pruint
+flagbit
+prbool
+value
+value
+mflags
+flagbit
+mflags
+flagbit
+flagbit
+runtimeflags
+mflags
+fdirty
+mflags
+flagbit
+mflags
+flagbit
+flagbit
+runtimeflags
+mflags
+fdirty
+print
+nsmsggrouprecord
+getnumkids
+print
+result
+nsmsggrouprecord
+child
+child
+mchildren
+child
+child
+child
+msibling
+isimapgrouprecord
+result
+child
+mflags
+fisgroup
+result
+isimapgrouprecord
+result
+child
+getnumkids
+result
+nsmsggrouprecord
+getsavestring
+pretty
+result
+nsnull
+mprettyname
+pretty
+nsescape
+mprettyname
+urlxalphas
+pretty
+fullname
+getfullname
+fullname
+naddtime
+llli
+naddtime
+maddtime
+result
+prsmprintf
+lx
+lx
+lx
+msglinebreak
+fullname
+pretty
+pretty
+mflags
+runtimeflags
+naddtime
+muniqueid
+fullname
+pretty
+nscrt
+free
+pretty
+mflags
+fdirty
+result
+prbool
+nsmsggrouprecord
+isdirty
+mflags
+fdirty
+print
+nsmsggrouprecord
+getdepth
+print
+result
+nsmsggrouprecord
+tmp
+mparent
+tmp
+tmp
+tmp
+mparent
+result
+result
+nsmsggrouprecord
+nsmsggrouprecord
+create
+nsmsggrouprecord
+parent
+saveline
+print
+savelinelength
+print
+fileoffset
+tmp
+ptr
+endptr
+partname
+prettyname
+print
+flags
+print
+addtime
+print
+uniqueid
+nsmsggrouprecord
+result
+savelinelength
+savelinelength
+plstrlen
+saveline
+tmp
+prmalloc
+savelinelength
+tmp
+plstrncpy
+tmp
+saveline
+savelinelength
+tmp
+savelinelength
+ptr
+plstrchr
+tmp
+prassert
+ptr
+ptr
+fail
+ptr
+partname
+plstrrchr
+tmp
+partname
+partname
+tmp
+partname
+ifdef
+debugslowandparanoid
+parent
+mpartname
+parentname
+parent
+getfullname
+prassert
+partname
+tmp
+partname
+partname
+prassert
+plstrcmp
+parentname
+tmp
+partname
+parentname
+parentname
+prassert
+partname
+tmp
+endif
+endptr
+plstrchr
+ptr
+prassert
+endptr
+endptr
+fail
+endptr
+prettyname
+nsunescape
+ptr
+ptr
+endptr
+endptr
+plstrchr
+ptr
+prassert
+endptr
+endptr
+fail
+endptr
+flags
+strtol
+ptr
+ptr
+endptr
+endptr
+plstrchr
+ptr
+prassert
+endptr
+endptr
+fail
+endptr
+addtime
+strtol
+ptr
+ptr
+endptr
+uniqueid
+strtol
+ptr
+print
+lladdtime
+llil
+lladdtime
+addtime
+result
+create
+parent
+partname
+lladdtime
+uniqueid
+fileoffset
+result
+prbool
+maybecategorycontainer
+flags
+fcatcont
+flags
+fcatcont
+result
+mflags
+flags
+maybecategorycontainer
+result
+setiscategorycontainer
+prtrue
+prettyname
+prettyname
+result
+setprettyname
+prettyname
+fail
+prfree
+tmp
+result
\ No newline at end of file
@@ -0,0 +1,3532 @@
+nsmsgincomingserver
+nscore
+nscom
+plstr
+prmem
+prprf
+nsiservicemanager
+nscomptr
+nsxpidlstring
+nsreadableutils
+nsescape
+nsisupportsobsolete
+nsisupportsprimitives
+nsmsgbasecid
+nsmsgdbcid
+nsimsgfolder
+nsimsgfoldercache
+nsimsgfoldercacheelement
+nsimsgwindow
+nsimsgfilterservice
+nsimsgprotocolinfo
+nsiprefservice
+nsidocshell
+nsiwebshell
+nsiwebshellwindow
+nsiauthprompt
+nsiobserverservice
+nsnetutil
+nsiwindowwatcher
+nsistringbundle
+nsirdfservice
+nsrdfcid
+nsiinterfacerequestor
+nsiinterfacerequestorutils
+nsimsgaccountmanager
+nscpasswordmanager
+nsimsgmdngenerator
+nsmsgfolderflags
+nsmsgutils
+define
+portnotset
+mozdeclctorcounter
+nsmsgincomingserver
+nsmsgincomingserver
+nsmsgincomingserver
+mrootfolder
+mprefbranch
+mbiffstate
+nsimsgfolder
+nsmsgbiffstatenomail
+mserverbusy
+prfalse
+mcanhavefilters
+prfalse
+mdisplaystartuppage
+prtrue
+mperformingbiff
+prfalse
+nsmsgincomingserver
+nsmsgincomingserver
+nsifrelease
+mprefbranch
+nsimplthreadsafeaddref
+nsmsgincomingserver
+nsimplthreadsaferelease
+nsmsgincomingserver
+nsinterfacemapbegin
+nsmsgincomingserver
+nsinterfacemapentry
+nsimsgincomingserver
+nsinterfacemapentry
+nsisupportsweakreference
+nsinterfacemapentryambiguous
+nsisupports
+nsimsgincomingserver
+nsinterfacemapendthreadsafe
+nsimplgetset
+nsmsgincomingserver
+serverbusy
+prbool
+mserverbusy
+nsimplgetterstr
+nsmsgincomingserver
+getkey
+mserverkey
+get
+nsimethodimp
+nsmsgincomingserver
+setkey
+serverkey
+mserverkey
+assign
+serverkey
+mprefbranch
+nsok
+callgetservice
+nsprefservicecontractid
+mprefbranch
+nsimethodimp
+nsmsgincomingserver
+setrootfolder
+nsifolder
+arootfolder
+mrootfolder
+arootfolder
+nsok
+nsimethodimp
+nsmsgincomingserver
+getrootfolder
+nsifolder
+arootfolder
+arootfolder
+nserrornullpointer
+mrootfolder
+arootfolder
+mrootfolder
+nsaddref
+arootfolder
+nsresult
+rv
+createrootfolder
+nsfailed
+rv
+rv
+arootfolder
+mrootfolder
+nsifaddref
+arootfolder
+nsok
+nsimethodimp
+nsmsgincomingserver
+getrootmsgfolder
+nsimsgfolder
+arootmsgfolder
+nsensureargpointer
+arootmsgfolder
+nscomptr
+nsifolder
+rootfolder
+nsresult
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nssucceeded
+rv
+rootfolder
+rv
+rootfolder
+queryinterface
+nsgetiid
+nsimsgfolder
+arootmsgfolder
+rv
+nsimethodimp
+nsmsgincomingserver
+performexpand
+nsimsgwindow
+amsgwindow
+ifdef
+debugsspitzer
+printf
+performexpand
+endif
+nsok
+nsimethodimp
+nsmsgincomingserver
+performbiff
+nsimsgwindow
+amsgwindow
+nserrornotimplemented
+nsimethodimp
+nsmsgincomingserver
+getperformingbiff
+prbool
+aperformingbiff
+nsensureargpointer
+aperformingbiff
+aperformingbiff
+mperformingbiff
+nsok
+nsimethodimp
+nsmsgincomingserver
+setperformingbiff
+prbool
+aperformingbiff
+mperformingbiff
+aperformingbiff
+nsok
+nsimplgetset
+nsmsgincomingserver
+biffstate
+pruint
+mbiffstate
+nsimethodimp
+nsmsgincomingserver
+writetofoldercache
+nsimsgfoldercache
+foldercache
+nsresult
+rv
+nsok
+mrootfolder
+nscomptr
+nsimsgfolder
+msgfolder
+doqueryinterface
+mrootfolder
+rv
+nssucceeded
+rv
+msgfolder
+rv
+msgfolder
+writetofoldercache
+foldercache
+prtrue
+rv
+nsimethodimp
+nsmsgincomingserver
+shutdown
+nsresult
+rv
+closecachedconnections
+nsensuresuccess
+rv
+rv
+mfilterlist
+rv
+mfilterlist
+setlogstream
+nsnull
+nsensuresuccess
+rv
+rv
+mfilterlist
+nsnull
+mspamsettings
+rv
+mspamsettings
+setlogstream
+nsnull
+nsensuresuccess
+rv
+rv
+mspamsettings
+nsnull
+rv
+nsimethodimp
+nsmsgincomingserver
+closecachedconnections
+nsok
+nsimethodimp
+nsmsgincomingserver
+getdownloadmessagesatstartup
+prbool
+getmessagesatstartup
+getmessagesatstartup
+prfalse
+nsok
+nsimethodimp
+nsmsgincomingserver
+getcanhavefilters
+prbool
+canhavefilters
+canhavefilters
+mcanhavefilters
+nsok
+nsimethodimp
+nsmsgincomingserver
+getcanbedefaultserver
+prbool
+canbedefaultserver
+canbedefaultserver
+prfalse
+nsok
+nsimethodimp
+nsmsgincomingserver
+getcansearchmessages
+prbool
+cansearchmessages
+nsensureargpointer
+cansearchmessages
+cansearchmessages
+prfalse
+nsok
+nsimethodimp
+nsmsgincomingserver
+getcancompactfoldersonserver
+prbool
+cancompactfoldersonserver
+nsensureargpointer
+cancompactfoldersonserver
+cancompactfoldersonserver
+prtrue
+nsok
+nsimethodimp
+nsmsgincomingserver
+getcanundodeleteonserver
+prbool
+canundodeleteonserver
+nsensureargpointer
+canundodeleteonserver
+canundodeleteonserver
+prtrue
+nsok
+nsimethodimp
+nsmsgincomingserver
+getcanemptytrashonexit
+prbool
+canemptytrashonexit
+nsensureargpointer
+canemptytrashonexit
+canemptytrashonexit
+prtrue
+nsok
+nsimethodimp
+nsmsgincomingserver
+getissecureserver
+prbool
+issecureserver
+nsensureargpointer
+issecureserver
+issecureserver
+prtrue
+nsok
+nsimethodimp
+nsmsgincomingserver
+getserveruri
+aresult
+nsensureargpointer
+aresult
+nsresult
+rv
+nscautostring
+uri
+nsxpidlcstring
+localstoretype
+rv
+getlocalstoretype
+gettercopies
+localstoretype
+nsfailed
+rv
+rv
+uri
+append
+localstoretype
+uri
+nsxpidlcstring
+username
+rv
+getusername
+gettercopies
+username
+nssucceeded
+rv
+username
+username
+nsxpidlcstring
+escapedusername
+gettercopies
+escapedusername
+nsescape
+username
+urlxalphas
+uri
+append
+escapedusername
+uri
+nsxpidlcstring
+hostname
+rv
+gethostname
+gettercopies
+hostname
+nssucceeded
+rv
+hostname
+hostname
+nsxpidlcstring
+escapedhostname
+gettercopies
+escapedhostname
+nsescape
+hostname
+urlpath
+uri
+append
+escapedhostname
+aresult
+tonewcstring
+uri
+nsok
+nsresult
+nsmsgincomingserver
+createrootfolder
+nsresult
+rv
+nsxpidlcstring
+serveruri
+rv
+getserveruri
+gettercopies
+serveruri
+nsfailed
+rv
+rv
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+rdf
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+serverresource
+rv
+rdf
+getresource
+serveruri
+getteraddrefs
+serverresource
+nsfailed
+rv
+rv
+mrootfolder
+doqueryinterface
+serverresource
+rv
+rv
+nsmsgincomingserver
+getprefname
+serverkey
+prefname
+nscstring
+fullprefname
+fullprefname
+mail
+server
+fullprefname
+append
+serverkey
+fullprefname
+append
+fullprefname
+append
+prefname
+nsmsgincomingserver
+getdefaultprefname
+prefname
+nscstring
+fullprefname
+fullprefname
+mail
+server
+fullprefname
+append
+prefname
+nsresult
+nsmsgincomingserver
+getboolvalue
+prefname
+prbool
+val
+nscautostring
+fullprefname
+getprefname
+mserverkey
+get
+prefname
+fullprefname
+nsresult
+rv
+mprefbranch
+getboolpref
+fullprefname
+get
+val
+nsfailed
+rv
+rv
+getdefaultboolpref
+prefname
+val
+rv
+nsresult
+nsmsgincomingserver
+getdefaultboolpref
+prefname
+prbool
+val
+nscautostring
+fullprefname
+getdefaultprefname
+prefname
+fullprefname
+nsresult
+rv
+mprefbranch
+getboolpref
+fullprefname
+get
+val
+nsfailed
+rv
+val
+prfalse
+rv
+nsok
+rv
+nsresult
+nsmsgincomingserver
+setboolvalue
+prefname
+prbool
+val
+nsresult
+rv
+nscautostring
+fullprefname
+getprefname
+mserverkey
+get
+prefname
+fullprefname
+prbool
+defaultvalue
+rv
+getdefaultboolpref
+prefname
+defaultvalue
+nssucceeded
+rv
+val
+defaultvalue
+mprefbranch
+clearuserpref
+fullprefname
+get
+rv
+mprefbranch
+setboolpref
+fullprefname
+get
+val
+rv
+nsresult
+nsmsgincomingserver
+getintvalue
+prefname
+print
+val
+nscautostring
+fullprefname
+getprefname
+mserverkey
+get
+prefname
+fullprefname
+nsresult
+rv
+mprefbranch
+getintpref
+fullprefname
+get
+val
+nsfailed
+rv
+rv
+getdefaultintpref
+prefname
+val
+rv
+nsresult
+nsmsgincomingserver
+getfilevalue
+prefname
+nsifilespec
+spec
+nscautostring
+fullprefname
+getprefname
+mserverkey
+get
+prefname
+fullprefname
+nscomptr
+nsilocalfile
+preflocal
+nsresult
+rv
+mprefbranch
+getcomplexvalue
+fullprefname
+get
+nsgetiid
+nsilocalfile
+getteraddrefs
+preflocal
+nsfailed
+rv
+rv
+nscomptr
+nsifilespec
+outspec
+rv
+nsnewfilespecfromifile
+preflocal
+getteraddrefs
+outspec
+nsfailed
+rv
+rv
+spec
+outspec
+nsaddref
+spec
+nsok
+nsresult
+nsmsgincomingserver
+setfilevalue
+prefname
+nsifilespec
+spec
+nscautostring
+fullprefname
+getprefname
+mserverkey
+get
+prefname
+fullprefname
+nsresult
+rv
+nsfilespec
+tempspec
+rv
+spec
+getfilespec
+tempspec
+nsfailed
+rv
+rv
+nscomptr
+nsilocalfile
+preflocal
+rv
+nsfilespectoifile
+tempspec
+getteraddrefs
+preflocal
+nsfailed
+rv
+rv
+rv
+mprefbranch
+setcomplexvalue
+fullprefname
+get
+nsgetiid
+nsilocalfile
+preflocal
+nsfailed
+rv
+rv
+nsok
+nsresult
+nsmsgincomingserver
+getdefaultintpref
+prefname
+print
+val
+nscautostring
+fullprefname
+getdefaultprefname
+prefname
+fullprefname
+nsresult
+rv
+mprefbranch
+getintpref
+fullprefname
+get
+val
+nsfailed
+rv
+val
+rv
+nsok
+rv
+nsresult
+nsmsgincomingserver
+setintvalue
+prefname
+print
+val
+nsresult
+rv
+nscautostring
+fullprefname
+getprefname
+mserverkey
+get
+prefname
+fullprefname
+print
+defaultval
+rv
+getdefaultintpref
+prefname
+defaultval
+nssucceeded
+rv
+defaultval
+val
+mprefbranch
+clearuserpref
+fullprefname
+get
+rv
+mprefbranch
+setintpref
+fullprefname
+get
+val
+rv
+nsresult
+nsmsgincomingserver
+getcharvalue
+prefname
+val
+nscautostring
+fullprefname
+getprefname
+mserverkey
+get
+prefname
+fullprefname
+nsresult
+rv
+mprefbranch
+getcharpref
+fullprefname
+get
+val
+nsfailed
+rv
+rv
+getdefaultcharpref
+prefname
+val
+rv
+nsresult
+nsmsgincomingserver
+getunicharvalue
+prefname
+prunichar
+val
+nscautostring
+fullprefname
+getprefname
+mserverkey
+get
+prefname
+fullprefname
+nscomptr
+nsisupportsstring
+supportsstring
+nsresult
+rv
+mprefbranch
+getcomplexvalue
+fullprefname
+get
+nsgetiid
+nsisupportsstring
+getteraddrefs
+supportsstring
+nsfailed
+rv
+getdefaultunicharpref
+prefname
+val
+supportsstring
+rv
+supportsstring
+tostring
+val
+rv
+nsresult
+nsmsgincomingserver
+getdefaultcharpref
+prefname
+val
+nscautostring
+fullprefname
+getdefaultprefname
+prefname
+fullprefname
+nsresult
+rv
+mprefbranch
+getcharpref
+fullprefname
+get
+val
+nsfailed
+rv
+val
+nsnull
+rv
+nsok
+rv
+nsresult
+nsmsgincomingserver
+getdefaultunicharpref
+prefname
+prunichar
+val
+nscautostring
+fullprefname
+getdefaultprefname
+prefname
+fullprefname
+nscomptr
+nsisupportsstring
+supportsstring
+nsresult
+rv
+mprefbranch
+getcomplexvalue
+fullprefname
+get
+nsgetiid
+nsisupportsstring
+getteraddrefs
+supportsstring
+nsfailed
+rv
+supportsstring
+val
+nsnull
+nsok
+supportsstring
+tostring
+val
+nsresult
+nsmsgincomingserver
+setcharvalue
+prefname
+val
+nsresult
+rv
+nscautostring
+fullprefname
+getprefname
+mserverkey
+get
+prefname
+fullprefname
+val
+mprefbranch
+clearuserpref
+fullprefname
+get
+nsok
+nsxpidlcstring
+defaultval
+rv
+getdefaultcharpref
+prefname
+gettercopies
+defaultval
+nssucceeded
+rv
+defaultval
+equals
+val
+mprefbranch
+clearuserpref
+fullprefname
+get
+rv
+mprefbranch
+setcharpref
+fullprefname
+get
+val
+rv
+nsresult
+nsmsgincomingserver
+setunicharvalue
+prefname
+prunichar
+val
+nsresult
+rv
+nscautostring
+fullprefname
+getprefname
+mserverkey
+get
+prefname
+fullprefname
+val
+mprefbranch
+clearuserpref
+fullprefname
+get
+nsok
+prunichar
+defaultval
+nsnull
+rv
+getdefaultunicharpref
+prefname
+defaultval
+defaultval
+nssucceeded
+rv
+nscrt
+strcmp
+defaultval
+val
+mprefbranch
+clearuserpref
+fullprefname
+get
+nscomptr
+nsisupportsstring
+supportsstring
+docreateinstance
+nssupportsstringcontractid
+rv
+supportsstring
+supportsstring
+setdata
+nsdependentstring
+val
+rv
+mprefbranch
+setcomplexvalue
+fullprefname
+get
+nsgetiid
+nsisupportsstring
+supportsstring
+prfreeif
+defaultval
+rv
+nsimethodimp
+nsmsgincomingserver
+getprettyname
+prunichar
+retval
+nsxpidlstring
+val
+nsresult
+rv
+getunicharvalue
+name
+gettercopies
+val
+nsfailed
+rv
+rv
+val
+isempty
+getconstructedprettyname
+retval
+retval
+nscrt
+strdup
+val
+nsok
+nsimethodimp
+nsmsgincomingserver
+setprettyname
+prunichar
+value
+setunicharvalue
+name
+value
+nscomptr
+nsifolder
+rootfolder
+getrootfolder
+getteraddrefs
+rootfolder
+rootfolder
+rootfolder
+setprettyname
+value
+nsok
+nsimethodimp
+nsmsgincomingserver
+getconstructedprettyname
+prunichar
+retval
+nsxpidlcstring
+username
+nsautostring
+prettyname
+nsresult
+rv
+getusername
+gettercopies
+username
+nsfailed
+rv
+rv
+username
+plstrcmp
+username
+prettyname
+assignwithconversion
+username
+prettyname
+append
+nsliteralstring
+on
+nsxpidlcstring
+hostname
+rv
+gethostname
+gettercopies
+hostname
+nsfailed
+rv
+rv
+prettyname
+appendwithconversion
+hostname
+retval
+tonewunicode
+prettyname
+nsok
+nsimethodimp
+nsmsgincomingserver
+tostring
+prunichar
+aresult
+aresult
+tonewunicode
+nsliteralstring
+nsimsgincomingserver
+nsconvertasciitoucs
+mserverkey
+nsliteralstring
+nsassertion
+aresult
+no
+server
+name
+nsok
+nsimethodimp
+nsmsgincomingserver
+setpassword
+apassword
+mpassword
+apassword
+nsresult
+rv
+prbool
+rememberpassword
+prfalse
+rv
+getrememberpassword
+rememberpassword
+nsfailed
+rv
+rv
+rememberpassword
+rv
+storepassword
+nsfailed
+rv
+rv
+nsok
+nsimethodimp
+nsmsgincomingserver
+getpassword
+apassword
+nsensureargpointer
+apassword
+apassword
+tonewcstring
+mpassword
+nsok
+nsimethodimp
+nsmsgincomingserver
+getserverrequirespasswordforbiff
+prbool
+aserverrequirespasswordforbiff
+nsensureargpointer
+aserverrequirespasswordforbiff
+aserverrequirespasswordforbiff
+prtrue
+nsok
+nsimethodimp
+nsmsgincomingserver
+getpasswordwithui
+prunichar
+apromptmessage
+prunichar
+aprompttitle
+nsimsgwindow
+amsgwindow
+prbool
+okayvalue
+apassword
+nsresult
+rv
+nsok
+nsensureargpointer
+apassword
+nsensureargpointer
+okayvalue
+mpassword
+isempty
+nscomptr
+nsiauthprompt
+dialog
+amsgwindow
+nscomptr
+nsidocshell
+docshell
+rv
+amsgwindow
+getrootdocshell
+getteraddrefs
+docshell
+nsfailed
+rv
+rv
+nscomptr
+nsiwebshell
+webshell
+doqueryinterface
+docshell
+rv
+nsfailed
+rv
+rv
+dialog
+dogetinterface
+webshell
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsiwindowwatcher
+wwatch
+dogetservice
+nswindowwatchercontractid
+wwatch
+wwatch
+getnewauthprompter
+getteraddrefs
+dialog
+dialog
+nserrorfailure
+nssucceeded
+rv
+dialog
+nsxpidlstring
+unipassword
+nsxpidlcstring
+serveruri
+rv
+getserveruri
+gettercopies
+serveruri
+nsfailed
+rv
+rv
+rv
+dialog
+promptpassword
+aprompttitle
+apromptmessage
+nsconvertasciitoucs
+serveruri
+get
+nsiauthprompt
+savepasswordpermanently
+gettercopies
+unipassword
+okayvalue
+nsfailed
+rv
+rv
+okayvalue
+apassword
+nsnull
+nsmsgpasswordpromptcancelled
+nscstring
+acstr
+acstr
+assignwithconversion
+unipassword
+rv
+setpassword
+acstr
+get
+nsfailed
+rv
+rv
+rv
+getpassword
+apassword
+rv
+nsresult
+nsmsgincomingserver
+storepassword
+nsresult
+rv
+nsxpidlcstring
+pwd
+rv
+getpassword
+gettercopies
+pwd
+nsfailed
+rv
+rv
+nscomptr
+nsiobserverservice
+observerservice
+dogetservice
+observer
+service
+rv
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+serverspec
+rv
+getserveruri
+gettercopies
+serverspec
+nsfailed
+rv
+rv
+nscomptr
+nsiuri
+uri
+nsnewuri
+getteraddrefs
+uri
+serverspec
+rv
+createservicesforpasswordmanager
+nsensuresuccess
+rv
+rv
+rv
+observerservice
+notifyobservers
+uri
+login
+succeeded
+nsconvertutftoucs
+pwd
+get
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsmsgincomingserver
+forgetpassword
+nsresult
+rv
+nscomptr
+nsiobserverservice
+observerservice
+dogetservice
+observer
+service
+rv
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+serverspec
+rv
+getserveruri
+gettercopies
+serverspec
+nsfailed
+rv
+rv
+nscomptr
+nsiuri
+uri
+nsnewuri
+getteraddrefs
+uri
+serverspec
+rv
+createservicesforpasswordmanager
+nsensuresuccess
+rv
+rv
+rv
+observerservice
+notifyobservers
+uri
+login
+failed
+nsnull
+nsensuresuccess
+rv
+rv
+rv
+setpassword
+rv
+nsimethodimp
+nsmsgincomingserver
+forgetsessionpassword
+mpassword
+truncate
+nsok
+nsimethodimp
+nsmsgincomingserver
+setdefaultlocalpath
+nsifilespec
+adefaultlocalpath
+nsresult
+rv
+nscomptr
+nsimsgprotocolinfo
+protocolinfo
+rv
+getprotocolinfo
+getteraddrefs
+protocolinfo
+nsfailed
+rv
+rv
+rv
+protocolinfo
+setdefaultlocalpath
+adefaultlocalpath
+rv
+nsimethodimp
+nsmsgincomingserver
+getlocalpath
+nsifilespec
+alocalpath
+nsresult
+rv
+rv
+getfilevalue
+directory
+alocalpath
+nssucceeded
+rv
+alocalpath
+rv
+nscomptr
+nsimsgprotocolinfo
+protocolinfo
+rv
+getprotocolinfo
+getteraddrefs
+protocolinfo
+nsfailed
+rv
+rv
+nscomptr
+nsifilespec
+path
+rv
+protocolinfo
+getdefaultlocalpath
+getteraddrefs
+path
+nsfailed
+rv
+rv
+path
+createdir
+rv
+path
+appendrelativeunixpath
+dummy
+nsfailed
+rv
+rv
+nsxpidlcstring
+hostname
+rv
+gethostname
+gettercopies
+hostname
+nsfailed
+rv
+rv
+rv
+path
+makeuniquewithsuggestedname
+hostname
+nsfailed
+rv
+rv
+rv
+setlocalpath
+path
+nsfailed
+rv
+rv
+alocalpath
+path
+nsaddref
+alocalpath
+nsok
+nsimethodimp
+nsmsgincomingserver
+setlocalpath
+nsifilespec
+spec
+spec
+spec
+createdir
+setfilevalue
+directory
+spec
+nserrornullpointer
+nsimethodimp
+nsmsgincomingserver
+setrememberpassword
+prbool
+value
+value
+forgetpassword
+storepassword
+setboolvalue
+rememberpassword
+value
+nsimethodimp
+nsmsgincomingserver
+getrememberpassword
+prbool
+value
+nsensureargpointer
+value
+getboolvalue
+rememberpassword
+value
+nsimethodimp
+nsmsgincomingserver
+getlocalstoretype
+aresult
+nsnotyetimplemented
+nsmsgincomingserver
+superclass
+implementing
+getlocalstoretype
+nserrorunexpected
+nsimethodimp
+nsmsgincomingserver
+equals
+nsimsgincomingserver
+server
+prbool
+retval
+nsresult
+rv
+nsensureargpointer
+server
+nsensureargpointer
+retval
+nsxpidlcstring
+key
+nsxpidlcstring
+key
+rv
+getkey
+gettercopies
+key
+nsfailed
+rv
+rv
+rv
+server
+getkey
+gettercopies
+key
+nsfailed
+rv
+rv
+plstrcmp
+key
+key
+ifdef
+debugmsgincomingserver
+printf
+are
+different
+servers
+are
+the
+same
+key
+key
+endif
+retval
+prfalse
+ifdef
+debugmsgincomingserver
+printf
+are
+equal
+servers
+are
+the
+same
+key
+key
+endif
+retval
+prtrue
+rv
+nsimethodimp
+nsmsgincomingserver
+clearallvalues
+nscautostring
+rootpref
+mail
+server
+rootpref
+mserverkey
+pruint
+childcount
+childarray
+nsresult
+rv
+mprefbranch
+getchildlist
+rootpref
+get
+childcount
+childarray
+nsensuresuccess
+rv
+rv
+pruint
+childcount
+mprefbranch
+clearuserpref
+childarray
+nsfreexpcomallocatedpointerarray
+childcount
+childarray
+nsok
+nsimethodimp
+nsmsgincomingserver
+removefiles
+nsresult
+rv
+nsok
+nscomptr
+nsifilespec
+localpath
+rv
+getlocalpath
+getteraddrefs
+localpath
+nsfailed
+rv
+rv
+localpath
+nserrorfailure
+prbool
+exists
+prfalse
+rv
+localpath
+exists
+exists
+nsfailed
+rv
+rv
+exists
+nsok
+rv
+localpath
+delete
+prtrue
+nsfailed
+rv
+rv
+rv
+localpath
+exists
+exists
+nsfailed
+rv
+rv
+exists
+nserrorfailure
+endif
+nsok
+nsimethodimp
+nsmsgincomingserver
+setfilterlist
+nsimsgfilterlist
+afilterlist
+mfilterlist
+afilterlist
+nsok
+nsimethodimp
+nsmsgincomingserver
+getfilterlist
+nsimsgwindow
+amsgwindow
+nsimsgfilterlist
+aresult
+mfilterlist
+nscomptr
+nsimsgfolder
+msgfolder
+nsresult
+rv
+getrootmsgfolder
+getteraddrefs
+msgfolder
+nsensuresuccess
+rv
+rv
+nscomptr
+nsifilespec
+thisfolder
+rv
+msgfolder
+getpath
+getteraddrefs
+thisfolder
+nsensuresuccess
+rv
+rv
+mfilterfile
+docreateinstance
+nsfilespeccontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+mfilterfile
+fromfilespec
+thisfolder
+nsensuresuccess
+rv
+rv
+mfilterfile
+appendrelativeunixpath
+msgfilterrules
+dat
+prbool
+fileexists
+mfilterfile
+exists
+fileexists
+fileexists
+nscomptr
+nsifilespec
+oldfilterfile
+docreateinstance
+nsfilespeccontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+oldfilterfile
+fromfilespec
+thisfolder
+nsensuresuccess
+rv
+rv
+oldfilterfile
+appendrelativeunixpath
+rules
+dat
+oldfilterfile
+exists
+fileexists
+fileexists
+nsfilespec
+rootfolderspec
+thisfolder
+getfilespec
+rootfolderspec
+nscomptr
+nsilocalfile
+rootfolderdir
+rv
+nsfilespectoifile
+rootfolderspec
+getteraddrefs
+rootfolderdir
+nsensuresuccess
+rv
+rv
+nsfilespec
+oldfilterspec
+oldfilterfile
+getfilespec
+oldfilterspec
+nscomptr
+nsilocalfile
+localfilterfile
+rv
+nsfilespectoifile
+oldfilterspec
+getteraddrefs
+localfilterfile
+nsensuresuccess
+rv
+rv
+rv
+localfilterfile
+copytonative
+rootfolderdir
+nsliteralcstring
+msgfilterrules
+dat
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgfilterservice
+filterservice
+dogetservice
+nsmsgfilterservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+filterservice
+openfilterlist
+mfilterfile
+msgfolder
+amsgwindow
+getteraddrefs
+mfilterlist
+nsensuresuccess
+rv
+rv
+nsifaddref
+aresult
+mfilterlist
+nsok
+nsresult
+nsmsgincomingserver
+internalsethostname
+ahostname
+prefname
+nsresult
+rv
+plstrchr
+ahostname
+nscautostring
+newhostname
+ahostname
+print
+colonpos
+newhostname
+findchar
+nscautostring
+portstring
+newhostname
+right
+portstring
+newhostname
+length
+colonpos
+newhostname
+truncate
+colonpos
+print
+err
+print
+port
+portstring
+tointeger
+err
+err
+setport
+port
+rv
+setcharvalue
+prefname
+newhostname
+get
+rv
+setcharvalue
+prefname
+ahostname
+rv
+nsimethodimp
+nsmsgincomingserver
+onuserorhostnamechanged
+oldname
+newname
+nsresult
+rv
+forgetpassword
+closecachedconnections
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+accountmanager
+notifyserverchanged
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+acctname
+rv
+getprettyname
+gettercopies
+acctname
+nssucceeded
+rv
+acctname
+nsautostring
+newacctname
+oldval
+newval
+oldval
+assignwithconversion
+oldname
+newval
+assignwithconversion
+newname
+newacctname
+assign
+acctname
+newacctname
+replacesubstring
+oldval
+newval
+setprettyname
+newacctname
+get
+rv
+nsresult
+nsmsgincomingserver
+sethostname
+ahostname
+internalsethostname
+ahostname
+hostname
+nsimethodimp
+nsmsgincomingserver
+setrealhostname
+ahostname
+nsxpidlcstring
+oldname
+nsresult
+rv
+getrealhostname
+gettercopies
+oldname
+nsensuresuccess
+rv
+rv
+rv
+internalsethostname
+ahostname
+realhostname
+nscrt
+strcasecmp
+ahostname
+oldname
+get
+rv
+onuserorhostnamechanged
+oldname
+get
+ahostname
+rv
+nsresult
+nsmsgincomingserver
+gethostname
+aresult
+nsresult
+rv
+rv
+getcharvalue
+hostname
+aresult
+plstrchr
+aresult
+sethostname
+aresult
+rv
+getcharvalue
+hostname
+aresult
+rv
+nsimethodimp
+nsmsgincomingserver
+getrealhostname
+aresult
+nsresult
+rv
+rv
+getcharvalue
+realhostname
+aresult
+nsensuresuccess
+rv
+rv
+aresult
+aresult
+gethostname
+aresult
+plstrchr
+aresult
+setrealhostname
+aresult
+rv
+getcharvalue
+realhostname
+aresult
+rv
+nsimethodimp
+nsmsgincomingserver
+getrealusername
+aresult
+nsresult
+rv
+rv
+getcharvalue
+realusername
+aresult
+nsensuresuccess
+rv
+rv
+aresult
+aresult
+getusername
+aresult
+rv
+nsimethodimp
+nsmsgincomingserver
+setrealusername
+ausername
+nsxpidlcstring
+oldname
+nsresult
+rv
+getrealusername
+gettercopies
+oldname
+nsensuresuccess
+rv
+rv
+rv
+setcharvalue
+realusername
+ausername
+oldname
+equals
+ausername
+rv
+onuserorhostnamechanged
+oldname
+get
+ausername
+rv
+define
+biffprefname
+checknewmail
+nsimethodimp
+nsmsgincomingserver
+getdobiff
+prbool
+adobiff
+nsensureargpointer
+adobiff
+nsresult
+rv
+nscautostring
+fullprefname
+getprefname
+mserverkey
+get
+biffprefname
+fullprefname
+rv
+mprefbranch
+getboolpref
+fullprefname
+get
+adobiff
+nssucceeded
+rv
+rv
+nscomptr
+nsimsgprotocolinfo
+protocolinfo
+rv
+getprotocolinfo
+getteraddrefs
+protocolinfo
+nsensuresuccess
+rv
+rv
+rv
+protocolinfo
+getdefaultdobiff
+adobiff
+rv
+nsimethodimp
+nsmsgincomingserver
+setdobiff
+prbool
+adobiff
+nsresult
+rv
+nscautostring
+fullprefname
+getprefname
+mserverkey
+get
+biffprefname
+fullprefname
+rv
+mprefbranch
+setboolpref
+fullprefname
+get
+adobiff
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsmsgincomingserver
+getport
+print
+aport
+nsensureargpointer
+aport
+nsresult
+rv
+rv
+getintvalue
+port
+aport
+aport
+portnotset
+rv
+nscomptr
+nsimsgprotocolinfo
+protocolinfo
+rv
+getprotocolinfo
+getteraddrefs
+protocolinfo
+nsensuresuccess
+rv
+rv
+prbool
+issecure
+prfalse
+getissecure
+issecure
+protocolinfo
+getdefaultserverport
+issecure
+aport
+nsimethodimp
+nsmsgincomingserver
+setport
+print
+aport
+nsresult
+rv
+nscomptr
+nsimsgprotocolinfo
+protocolinfo
+rv
+getprotocolinfo
+getteraddrefs
+protocolinfo
+nsensuresuccess
+rv
+rv
+print
+defaultport
+rv
+protocolinfo
+getdefaultserverport
+prfalse
+defaultport
+nssucceeded
+rv
+aport
+defaultport
+rv
+setintvalue
+port
+portnotset
+rv
+setintvalue
+port
+aport
+nsok
+nsresult
+nsmsgincomingserver
+getprotocolinfo
+nsimsgprotocolinfo
+aresult
+nsensureargpointer
+aresult
+nsresult
+rv
+nsxpidlcstring
+type
+rv
+gettype
+gettercopies
+type
+nsensuresuccess
+rv
+rv
+nscautostring
+contractid
+nsmsgprotocolinfocontractidprefix
+contractid
+append
+type
+nscomptr
+nsimsgprotocolinfo
+protocolinfo
+dogetservice
+contractid
+get
+rv
+nsensuresuccess
+rv
+rv
+aresult
+protocolinfo
+nsaddref
+aresult
+nsok
+nsimethodimp
+nsmsgincomingserver
+getretentionsettings
+nsimsgretentionsettings
+settings
+nsensureargpointer
+settings
+nsmsgretainbypreference
+retainbypreference
+print
+daystokeephdrs
+print
+numheaderstokeep
+prbool
+keepunreadmessagesonly
+prfalse
+print
+daystokeepbodies
+prbool
+cleanupbodiesbydays
+prfalse
+nsresult
+rv
+nsok
+mretentionsettings
+mretentionsettings
+docreateinstance
+nsmsgretentionsettingscontractid
+mretentionsettings
+rv
+getboolvalue
+keepunreadonly
+keepunreadmessagesonly
+rv
+getintvalue
+retainby
+print
+retainbypreference
+rv
+getintvalue
+numhdrstokeep
+numheaderstokeep
+rv
+getintvalue
+daystokeephdrs
+daystokeephdrs
+rv
+getintvalue
+daystokeepbodies
+daystokeepbodies
+rv
+getboolvalue
+cleanupbodies
+cleanupbodiesbydays
+mretentionsettings
+setretainbypreference
+retainbypreference
+mretentionsettings
+setnumheaderstokeep
+pruint
+numheaderstokeep
+mretentionsettings
+setkeepunreadmessagesonly
+keepunreadmessagesonly
+mretentionsettings
+setdaystokeepbodies
+daystokeepbodies
+mretentionsettings
+setdaystokeephdrs
+daystokeephdrs
+mretentionsettings
+setcleanupbodiesbydays
+cleanupbodiesbydays
+rv
+nserroroutofmemory
+settings
+mretentionsettings
+nsifaddref
+settings
+rv
+nsimethodimp
+nsmsgincomingserver
+setretentionsettings
+nsimsgretentionsettings
+settings
+nsmsgretainbypreference
+retainbypreference
+pruint
+daystokeephdrs
+pruint
+numheaderstokeep
+prbool
+keepunreadmessagesonly
+prfalse
+pruint
+daystokeepbodies
+prbool
+cleanupbodiesbydays
+prfalse
+mretentionsettings
+settings
+mretentionsettings
+getretainbypreference
+retainbypreference
+mretentionsettings
+getnumheaderstokeep
+numheaderstokeep
+mretentionsettings
+getkeepunreadmessagesonly
+keepunreadmessagesonly
+mretentionsettings
+getdaystokeepbodies
+daystokeepbodies
+mretentionsettings
+getdaystokeephdrs
+daystokeephdrs
+mretentionsettings
+getcleanupbodiesbydays
+cleanupbodiesbydays
+nsresult
+rv
+setboolvalue
+keepunreadonly
+keepunreadmessagesonly
+rv
+setintvalue
+retainby
+retainbypreference
+rv
+setintvalue
+numhdrstokeep
+numheaderstokeep
+rv
+setintvalue
+daystokeephdrs
+daystokeephdrs
+rv
+setintvalue
+daystokeepbodies
+daystokeepbodies
+rv
+setboolvalue
+cleanupbodies
+cleanupbodiesbydays
+rv
+nsimethodimp
+nsmsgincomingserver
+getdisplaystartuppage
+prbool
+displaystartuppage
+nsensureargpointer
+displaystartuppage
+displaystartuppage
+mdisplaystartuppage
+nsok
+nsimethodimp
+nsmsgincomingserver
+setdisplaystartuppage
+prbool
+displaystartuppage
+mdisplaystartuppage
+displaystartuppage
+nsok
+nsimethodimp
+nsmsgincomingserver
+getdownloadsettings
+nsimsgdownloadsettings
+settings
+nsensureargpointer
+settings
+prbool
+downloadunreadonly
+prfalse
+prbool
+downloadbydate
+prfalse
+pruint
+agelimitofmsgstodownload
+nsresult
+rv
+nsok
+mdownloadsettings
+mdownloadsettings
+docreateinstance
+nsmsgdownloadsettingscontractid
+mdownloadsettings
+rv
+getboolvalue
+downloadunreadonly
+downloadunreadonly
+rv
+getboolvalue
+downloadbydate
+downloadbydate
+rv
+getintvalue
+agelimit
+print
+agelimitofmsgstodownload
+mdownloadsettings
+setdownloadunreadonly
+downloadunreadonly
+mdownloadsettings
+setdownloadbydate
+downloadbydate
+mdownloadsettings
+setagelimitofmsgstodownload
+agelimitofmsgstodownload
+rv
+nserroroutofmemory
+settings
+mdownloadsettings
+nsifaddref
+settings
+rv
+nsimethodimp
+nsmsgincomingserver
+setdownloadsettings
+nsimsgdownloadsettings
+settings
+mdownloadsettings
+settings
+prbool
+downloadunreadonly
+prfalse
+prbool
+downloadbydate
+prfalse
+pruint
+agelimitofmsgstodownload
+mdownloadsettings
+getdownloadunreadonly
+downloadunreadonly
+mdownloadsettings
+getdownloadbydate
+downloadbydate
+mdownloadsettings
+getagelimitofmsgstodownload
+agelimitofmsgstodownload
+nsresult
+rv
+setboolvalue
+downloadunreadonly
+downloadunreadonly
+rv
+setboolvalue
+downloadbydate
+downloadbydate
+rv
+setintvalue
+agelimit
+agelimitofmsgstodownload
+rv
+nsimethodimp
+nsmsgincomingserver
+getsupportsdiskspace
+prbool
+asupportsdiskspace
+nsensureargpointer
+asupportsdiskspace
+asupportsdiskspace
+prtrue
+nsok
+nsimethodimp
+nsmsgincomingserver
+getofflinesupportlevel
+print
+asupportlevel
+nsensureargpointer
+asupportlevel
+nsresult
+rv
+rv
+getintvalue
+offlinesupportlevel
+asupportlevel
+asupportlevel
+offlinesupportlevelundefined
+rv
+asupportlevel
+offlinesupportlevelnone
+nsok
+nsimethodimp
+nsmsgincomingserver
+setofflinesupportlevel
+print
+asupportlevel
+setintvalue
+offlinesupportlevel
+asupportlevel
+nsok
+define
+basemsgsurl
+messenger
+locale
+messenger
+properties
+nsimethodimp
+nsmsgincomingserver
+displayofflinemsg
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+nscomptr
+nsistringbundleservice
+bundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsistringbundle
+bundle
+rv
+bundleservice
+createbundle
+basemsgsurl
+getteraddrefs
+bundle
+nsensuresuccess
+rv
+rv
+bundle
+nsxpidlstring
+errormsgtitle
+nsxpidlstring
+errormsgbody
+bundle
+getstringfromname
+nsliteralstring
+nocachedbodybody
+get
+gettercopies
+errormsgbody
+bundle
+getstringfromname
+nsliteralstring
+nocachedbodytitle
+get
+gettercopies
+errormsgtitle
+amsgwindow
+amsgwindow
+displayhtmlinmessagepane
+errormsgtitle
+errormsgbody
+nserrorfailure
+rv
+nsimethodimp
+nsmsgincomingserver
+generateprettynameformigration
+prunichar
+aprettyname
+nserrornotimplemented
+nsimethodimp
+nsmsgincomingserver
+getfilterscope
+nsmsgsearchscopevalue
+filterscope
+nsensureargpointer
+filterscope
+filterscope
+nsmsgsearchscope
+offlinemailfilter
+nsok
+nsimethodimp
+nsmsgincomingserver
+getsearchscope
+nsmsgsearchscopevalue
+searchscope
+nsensureargpointer
+searchscope
+searchscope
+nsmsgsearchscope
+offlinemail
+nsok
+nsimplserverprefstr
+nsmsgincomingserver
+username
+username
+nsimplserverprefstr
+nsmsgincomingserver
+prefpassword
+password
+nsimplserverprefbool
+nsmsgincomingserver
+issecure
+issecure
+nsimplserverprefbool
+nsmsgincomingserver
+usesecauth
+usesecauth
+nsimplserverprefint
+nsmsgincomingserver
+biffminutes
+checktime
+nsimplserverprefstr
+nsmsgincomingserver
+type
+type
+nsimplserverprefbool
+nsmsgincomingserver
+downloadonbiff
+downloadonbiff
+nsimplserverprefbool
+nsmsgincomingserver
+valid
+valid
+nsimplserverprefstr
+nsmsgincomingserver
+redirectortype
+redirectortype
+nsimplserverprefbool
+nsmsgincomingserver
+emptytrashonexit
+emptytrashonexit
+nsimplserverprefbool
+nsmsgincomingserver
+candelete
+candelete
+nsimplserverprefbool
+nsmsgincomingserver
+loginatstartup
+loginatstartup
+nsimplserverprefbool
+nsmsgincomingserver
+defaultcopiesandfoldersprefstoserver
+allowsspecialfoldersusage
+nsimplserverprefbool
+nsmsgincomingserver
+cancreatefoldersonserver
+cancreatefolders
+nsimplserverprefbool
+nsmsgincomingserver
+canfilemessagesonserver
+canfilemessages
+nsimplserverprefbool
+nsmsgincomingserver
+limitofflinemessagesize
+limitofflinemessagesize
+nsimplserverprefint
+nsmsgincomingserver
+maxmessagesize
+maxsize
+nsimethodimp
+nsmsgincomingserver
+setunicharattribute
+aname
+prunichar
+val
+setunicharvalue
+aname
+val
+nsimethodimp
+nsmsgincomingserver
+getunicharattribute
+aname
+prunichar
+val
+getunicharvalue
+aname
+val
+nsimethodimp
+nsmsgincomingserver
+setcharattribute
+aname
+val
+setcharvalue
+aname
+val
+nsimethodimp
+nsmsgincomingserver
+getcharattribute
+aname
+val
+getcharvalue
+aname
+val
+nsimethodimp
+nsmsgincomingserver
+setboolattribute
+aname
+prbool
+val
+setboolvalue
+aname
+val
+nsimethodimp
+nsmsgincomingserver
+getboolattribute
+aname
+prbool
+val
+getboolvalue
+aname
+val
+nsimethodimp
+nsmsgincomingserver
+setintattribute
+aname
+print
+val
+setintvalue
+aname
+val
+nsimethodimp
+nsmsgincomingserver
+getintattribute
+aname
+print
+val
+getintvalue
+aname
+val
+nsimethodimp
+nsmsgincomingserver
+getisauthenticated
+prbool
+isauthenticated
+nsresult
+rv
+nsok
+nsensureargpointer
+isauthenticated
+isauthenticated
+prfalse
+mpassword
+isempty
+nscomptr
+nsipasswordmanagerinternal
+passwordmgrint
+dogetservice
+nspasswordmanagercontractid
+rv
+nssucceeded
+rv
+passwordmgrint
+nsxpidlcstring
+currserveruri
+rv
+getserveruri
+gettercopies
+currserveruri
+nsensuresuccess
+rv
+rv
+nscautostring
+hostfound
+nsautostring
+usernamefound
+nsautostring
+passwordfound
+rv
+passwordmgrint
+findpasswordentry
+currserveruri
+nsstring
+nsstring
+hostfound
+usernamefound
+passwordfound
+nsfailed
+rv
+isauthenticated
+prfalse
+nsok
+passwordfound
+isempty
+rv
+setpassword
+nsconvertucstoutf
+passwordfound
+get
+nsensuresuccess
+rv
+rv
+isauthenticated
+mpassword
+isempty
+rv
+nsimethodimp
+nsmsgincomingserver
+configuretemporaryreturnreceiptsfilter
+nsimsgfilterlist
+filterlist
+nsensureargpointer
+filterlist
+nsresult
+rv
+nscomptr
+nsimsgaccountmanager
+accountmgr
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgidentity
+identity
+rv
+accountmgr
+getfirstidentityforserver
+getteraddrefs
+identity
+nsensuresuccess
+rv
+rv
+prbool
+usecustomprefs
+prfalse
+print
+incorp
+nsimsgmdngenerator
+eincorporateinbox
+identity
+getboolattribute
+usecustomprefs
+usecustomprefs
+usecustomprefs
+rv
+getintvalue
+incorporatereturnreceipt
+incorp
+rv
+mprefbranch
+getintpref
+mail
+incorporate
+returnreceipt
+incorp
+prbool
+enable
+incorp
+nsimsgmdngenerator
+eincorporatesent
+nsnamedliteralstring
+internalreturnreceiptfiltername
+temporary
+internal
+mdn
+receipt
+filter
+nscomptr
+nsimsgfilter
+newfilter
+rv
+filterlist
+getfilternamed
+internalreturnreceiptfiltername
+get
+getteraddrefs
+newfilter
+newfilter
+newfilter
+setenabled
+enable
+enable
+nsxpidlcstring
+actiontargetfolderuri
+rv
+identity
+getfccfolder
+gettercopies
+actiontargetfolderuri
+actiontargetfolderuri
+isempty
+filterlist
+createfilter
+internalreturnreceiptfiltername
+get
+getteraddrefs
+newfilter
+newfilter
+newfilter
+setenabled
+prtrue
+newfilter
+settemporary
+prtrue
+nscomptr
+nsimsgsearchterm
+term
+nscomptr
+nsimsgsearchvalue
+value
+rv
+newfilter
+createterm
+getteraddrefs
+term
+nssucceeded
+rv
+rv
+term
+getvalue
+getteraddrefs
+value
+nssucceeded
+rv
+value
+setattrib
+nsmsgsearchattrib
+otherheader
+value
+setstr
+nsliteralstring
+multipart
+report
+get
+term
+setattrib
+nsmsgsearchattrib
+otherheader
+term
+setop
+nsmsgsearchop
+contains
+term
+setbooleanand
+prtrue
+term
+setarbitraryheader
+content
+type
+term
+setvalue
+value
+newfilter
+appendterm
+term
+rv
+newfilter
+createterm
+getteraddrefs
+term
+nssucceeded
+rv
+rv
+term
+getvalue
+getteraddrefs
+value
+nssucceeded
+rv
+value
+setattrib
+nsmsgsearchattrib
+otherheader
+value
+setstr
+nsliteralstring
+disposition
+notification
+get
+term
+setattrib
+nsmsgsearchattrib
+otherheader
+term
+setop
+nsmsgsearchop
+contains
+term
+setbooleanand
+prtrue
+term
+setarbitraryheader
+content
+type
+term
+setvalue
+value
+newfilter
+appendterm
+term
+nscomptr
+nsimsgruleaction
+filteraction
+newfilter
+createaction
+getteraddrefs
+filteraction
+filteraction
+settype
+nsmsgfilteraction
+movetofolder
+filteraction
+settargetfolderuri
+actiontargetfolderuri
+newfilter
+appendaction
+filteraction
+filterlist
+insertfilterat
+newfilter
+rv
+nsimethodimp
+nsmsgincomingserver
+cleartemporaryreturnreceiptsfilter
+mfilterlist
+nscomptr
+nsimsgfilter
+mdnfilter
+nsresult
+rv
+mfilterlist
+getfilternamed
+nsliteralstring
+temporary
+internal
+mdn
+receipt
+filter
+get
+getteraddrefs
+mdnfilter
+nssucceeded
+rv
+mdnfilter
+mfilterlist
+removefilter
+mdnfilter
+nsok
+nsimethodimp
+nsmsgincomingserver
+getmsgfolderfromuri
+nsimsgfolder
+afolderresource
+auri
+nsimsgfolder
+afolder
+nscomptr
+nsimsgfolder
+rootmsgfolder
+nsresult
+rv
+getrootmsgfolder
+getteraddrefs
+rootmsgfolder
+nsensuresuccess
+rv
+rv
+rootmsgfolder
+nserrorunexpected
+nscomptr
+nsimsgfolder
+msgfolder
+rv
+rootmsgfolder
+getchildwithuri
+auri
+prtrue
+prtrue
+getteraddrefs
+msgfolder
+nsfailed
+rv
+msgfolder
+msgfolder
+afolderresource
+nsifaddref
+afolder
+msgfolder
+nsok
+nsimethodimp
+nsmsgincomingserver
+setspamsettings
+nsispamsettings
+aspamsettings
+nsensureargpointer
+aspamsettings
+nsresult
+rv
+mspamsettings
+mspamsettings
+docreateinstance
+nsspamsettingscontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+mspamsettings
+setserver
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+oldjunkfolderuri
+rv
+mspamsettings
+getspamfolderuri
+gettercopies
+oldjunkfolderuri
+nsensuresuccess
+rv
+rv
+oldjunkfolderuri
+isempty
+nscomptr
+nsimsgfolder
+oldjunkfolder
+rv
+getexistingfolder
+oldjunkfolderuri
+get
+getteraddrefs
+oldjunkfolder
+nssucceeded
+rv
+oldjunkfolder
+oldjunkfolder
+setflag
+msgfolderflagjunk
+rv
+mspamsettings
+clone
+aspamsettings
+nsensuresuccess
+rv
+rv
+print
+spamlevel
+rv
+mspamsettings
+getlevel
+spamlevel
+nsensuresuccess
+rv
+rv
+rv
+setintvalue
+spamlevel
+spamlevel
+nsensuresuccess
+rv
+rv
+prbool
+moveonspam
+mspamsettings
+getmoveonspam
+moveonspam
+setboolvalue
+moveonspam
+moveonspam
+print
+movetargetmode
+mspamsettings
+getmovetargetmode
+movetargetmode
+setintvalue
+movetargetmode
+movetargetmode
+prbool
+manualmark
+mspamsettings
+getmanualmark
+manualmark
+setboolvalue
+manualmark
+manualmark
+print
+manualmarkmode
+mspamsettings
+getmanualmarkmode
+manualmarkmode
+setintvalue
+manualmarkmode
+manualmarkmode
+nsxpidlcstring
+spamactiontargetaccount
+rv
+mspamsettings
+getactiontargetaccount
+gettercopies
+spamactiontargetaccount
+nsensuresuccess
+rv
+rv
+rv
+setcharvalue
+spamactiontargetaccount
+spamactiontargetaccount
+get
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+spamactiontargetfolder
+rv
+mspamsettings
+getactiontargetfolder
+gettercopies
+spamactiontargetfolder
+nsensuresuccess
+rv
+rv
+rv
+setcharvalue
+spamactiontargetfolder
+spamactiontargetfolder
+get
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+newjunkfolderuri
+rv
+mspamsettings
+getspamfolderuri
+gettercopies
+newjunkfolderuri
+nsensuresuccess
+rv
+rv
+moveonspam
+newjunkfolderuri
+isempty
+nscomptr
+nsiurllistener
+listener
+doqueryinterface
+mspamsettings
+rv
+nsensuresuccess
+rv
+rv
+rv
+getorcreatefolder
+newjunkfolderuri
+listener
+nsensuresuccess
+rv
+rv
+prbool
+usewhitelist
+rv
+mspamsettings
+getusewhitelist
+usewhitelist
+nsensuresuccess
+rv
+rv
+rv
+setboolvalue
+usewhitelist
+usewhitelist
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+whitelistaburi
+rv
+mspamsettings
+getwhitelistaburi
+gettercopies
+whitelistaburi
+nsensuresuccess
+rv
+rv
+rv
+setcharvalue
+whitelistaburi
+whitelistaburi
+get
+nsensuresuccess
+rv
+rv
+prbool
+purgespam
+rv
+mspamsettings
+getpurge
+purgespam
+nsensuresuccess
+rv
+rv
+rv
+setboolvalue
+purgespam
+purgespam
+nsensuresuccess
+rv
+rv
+print
+purgespaminterval
+rv
+mspamsettings
+getpurgeinterval
+purgespaminterval
+nsensuresuccess
+rv
+rv
+rv
+setintvalue
+purgespaminterval
+purgespaminterval
+nsensuresuccess
+rv
+rv
+print
+loggingenabled
+rv
+mspamsettings
+getloggingenabled
+loggingenabled
+nsensuresuccess
+rv
+rv
+rv
+setboolvalue
+spamloggingenabled
+loggingenabled
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefservice
+prefservice
+doqueryinterface
+mprefbranch
+nsensuretrue
+prefservice
+nserrorfailure
+prefservice
+savepreffile
+nsnull
+nsimethodimp
+nsmsgincomingserver
+getspamsettings
+nsispamsettings
+aspamsettings
+nsensureargpointer
+aspamsettings
+mspamsettings
+nsresult
+rv
+mspamsettings
+docreateinstance
+nsspamsettingscontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+mspamsettings
+setserver
+nsensuresuccess
+rv
+rv
+print
+spamlevel
+rv
+getintvalue
+spamlevel
+spamlevel
+nsensuresuccess
+rv
+rv
+rv
+mspamsettings
+setlevel
+spamlevel
+nsensuresuccess
+rv
+rv
+prbool
+moveonspam
+rv
+getboolvalue
+moveonspam
+moveonspam
+nsensuresuccess
+rv
+rv
+rv
+mspamsettings
+setmoveonspam
+moveonspam
+nsensuresuccess
+rv
+rv
+print
+movetargetmode
+rv
+getintvalue
+movetargetmode
+movetargetmode
+nsensuresuccess
+rv
+rv
+rv
+mspamsettings
+setmovetargetmode
+movetargetmode
+nsensuresuccess
+rv
+rv
+prbool
+manualmark
+getboolvalue
+manualmark
+manualmark
+mspamsettings
+setmanualmark
+manualmark
+print
+manualmarkmode
+getintvalue
+manualmarkmode
+manualmarkmode
+mspamsettings
+setmanualmarkmode
+manualmarkmode
+nsxpidlcstring
+spamactiontargetaccount
+rv
+getcharvalue
+spamactiontargetaccount
+gettercopies
+spamactiontargetaccount
+nsensuresuccess
+rv
+rv
+rv
+mspamsettings
+setactiontargetaccount
+spamactiontargetaccount
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+spamactiontargetfolder
+rv
+getcharvalue
+spamactiontargetfolder
+gettercopies
+spamactiontargetfolder
+nsensuresuccess
+rv
+rv
+rv
+mspamsettings
+setactiontargetfolder
+spamactiontargetfolder
+nsensuresuccess
+rv
+rv
+prbool
+usewhitelist
+rv
+getboolvalue
+usewhitelist
+usewhitelist
+nsensuresuccess
+rv
+rv
+rv
+mspamsettings
+setusewhitelist
+usewhitelist
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+whitelistaburi
+rv
+getcharvalue
+whitelistaburi
+gettercopies
+whitelistaburi
+nsensuresuccess
+rv
+rv
+rv
+mspamsettings
+setwhitelistaburi
+whitelistaburi
+nsensuresuccess
+rv
+rv
+prbool
+purgespam
+rv
+getboolvalue
+purgespam
+purgespam
+nsensuresuccess
+rv
+rv
+rv
+mspamsettings
+setpurge
+purgespam
+nsensuresuccess
+rv
+rv
+print
+purgespaminterval
+rv
+getintvalue
+purgespaminterval
+purgespaminterval
+nsensuresuccess
+rv
+rv
+rv
+mspamsettings
+setpurgeinterval
+purgespaminterval
+nsensuresuccess
+rv
+rv
+print
+loggingenabled
+rv
+getboolvalue
+spamloggingenabled
+loggingenabled
+nsensuresuccess
+rv
+rv
+rv
+mspamsettings
+setloggingenabled
+loggingenabled
+nsensuresuccess
+rv
+rv
+nsaddref
+aspamsettings
+mspamsettings
+nsok
+nsimethodimp
+nsmsgincomingserver
+getspamfilterplugin
+nsimsgfilterplugin
+afilterplugin
+nsensureargpointer
+afilterplugin
+mfilterplugin
+nsresult
+rv
+mfilterplugin
+dogetservice
+messenger
+filter
+plugin
+name
+bayesianfilter
+rv
+nsfailed
+rv
+rv
+nsifaddref
+afilterplugin
+mfilterplugin
+nsok
\ No newline at end of file
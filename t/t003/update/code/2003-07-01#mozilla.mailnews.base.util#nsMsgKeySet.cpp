@@ -0,0 +1,1704 @@
+msgcore
+prlog
+mailnewstypes
+nsmsgkeyset
+prprf
+prmem
+nsmsgkeyarray
+defined
+debugseth
+defined
+debugsspitzer
+define
+debugmsgkeyset
+endif
+mozdeclctorcounter
+nsmsgkeyset
+nsmsgkeyset
+nsmsgkeyset
+mozcountctor
+nsmsgkeyset
+mcachedvalue
+mcachedvalueindex
+mlength
+mdatasize
+mdata
+print
+prmalloc
+print
+mdatasize
+ifdef
+newsrcdoeshoststuff
+mhost
+host
+endif
+nsmsgkeyset
+nsmsgkeyset
+mozcountdtor
+nsmsgkeyset
+prfreeif
+mdata
+prbool
+nsmsgkeyset
+grow
+print
+newsize
+print
+newdata
+newsize
+mdatasize
+newdata
+print
+prrealloc
+mdata
+print
+newsize
+newdata
+prfalse
+mdatasize
+newsize
+mdata
+newdata
+prtrue
+nsmsgkeyset
+nsmsgkeyset
+numbers
+print
+head
+tail
+end
+mozcountctor
+nsmsgkeyset
+ifdef
+newsrcdoeshoststuff
+mhost
+host
+endif
+mcachedvalue
+mcachedvalueindex
+mlength
+mdatasize
+mdata
+print
+prmalloc
+print
+mdatasize
+mdata
+head
+mdata
+tail
+head
+end
+head
+mdatasize
+numbers
+nscrt
+isasciispace
+numbers
+numbers
+numbers
+print
+from
+print
+to
+tail
+end
+print
+tailo
+tail
+head
+grow
+prfreeif
+mdata
+head
+mdata
+tail
+head
+tailo
+end
+head
+mdatasize
+nscrt
+isasciispace
+numbers
+numbers
+numbers
+nscrt
+isasciidigit
+numbers
+nscrt
+isasciidigit
+numbers
+from
+from
+numbers
+nscrt
+isasciispace
+numbers
+numbers
+numbers
+to
+from
+to
+numbers
+numbers
+numbers
+to
+to
+numbers
+nscrt
+isasciispace
+numbers
+numbers
+to
+from
+to
+from
+from
+from
+to
+from
+tail
+from
+tail
+tail
+to
+from
+tail
+tail
+from
+tail
+numbers
+nscrt
+isasciispace
+numbers
+numbers
+mlength
+tail
+head
+nsmsgkeyset
+nsmsgkeyset
+create
+nsmsgkeyset
+set
+nsmsgkeyset
+set
+set
+mdata
+set
+set
+set
+nsmsgkeyset
+nsmsgkeyset
+create
+value
+ifdef
+debugmsgkeyset
+printf
+create
+from
+value
+endif
+nsmsgkeyset
+set
+nsmsgkeyset
+value
+set
+set
+mdata
+set
+set
+set
+print
+nsmsgkeyset
+firstnonmember
+mlength
+mdata
+mdata
+mdata
+mdata
+mdata
+mdata
+mdata
+mlength
+mdata
+mdata
+mlength
+mdata
+nsresult
+nsmsgkeyset
+output
+outputstr
+nsensurearg
+outputstr
+print
+size
+print
+head
+print
+tail
+print
+end
+print
+ssize
+shead
+send
+print
+lastart
+outputstr
+nsnull
+size
+mlength
+head
+mdata
+tail
+head
+end
+head
+size
+ssize
+size
+shead
+nsmemory
+alloc
+ssize
+shead
+nserroroutofmemory
+shead
+shead
+send
+ssize
+tail
+end
+print
+from
+print
+to
+send
+print
+so
+shead
+ssize
+tmp
+ssize
+tmp
+plstrcpy
+tmp
+shead
+nsmemory
+free
+shead
+shead
+tmp
+shead
+nserroroutofmemory
+shead
+so
+send
+shead
+ssize
+tail
+from
+tail
+to
+from
+tail
+tail
+from
+tail
+to
+from
+tail
+from
+from
+from
+lastart
+from
+lastart
+from
+to
+from
+to
+prsnprintf
+send
+lu
+lu
+from
+to
+prsnprintf
+send
+lu
+from
+plstrlen
+lastart
+to
+lastart
+outputstr
+shead
+nsok
+print
+nsmsgkeyset
+getlastmember
+mlength
+print
+nexttolast
+mdata
+mlength
+nexttolast
+print
+last
+mdata
+mlength
+nexttolast
+last
+mdata
+mlength
+mlength
+mdata
+nsmsgkeyset
+setlastmember
+print
+newhighwatermark
+newhighwatermark
+getlastmember
+prtrue
+mlength
+print
+nexttolast
+mdata
+mlength
+print
+curhighwater
+nexttolast
+print
+rangestart
+mdata
+mlength
+print
+rangelength
+nexttolast
+curhighwater
+rangelength
+rangestart
+curhighwater
+newhighwatermark
+rangestart
+newhighwatermark
+mlength
+rangestart
+newhighwatermark
+mdata
+mlength
+newhighwatermark
+mlength
+mdata
+mlength
+newhighwatermark
+rangestart
+mdata
+mlength
+newhighwatermark
+mlength
+ifdef
+newsrcdoeshoststuff
+mhost
+mhost
+markdirty
+endif
+print
+nsmsgkeyset
+getfirstmember
+mlength
+print
+first
+mdata
+first
+print
+second
+mdata
+second
+mdata
+mlength
+mdata
+prbool
+nsmsgkeyset
+optimize
+print
+inputsize
+print
+outputsize
+print
+inputtail
+print
+outputdata
+print
+outputtail
+print
+inputend
+print
+outputend
+inputsize
+mlength
+outputsize
+inputsize
+inputtail
+mdata
+outputdata
+print
+prmalloc
+print
+outputsize
+outputdata
+prfalse
+outputtail
+outputdata
+inputend
+inputtail
+inputsize
+outputend
+outputdata
+outputsize
+mcachedvalue
+inputtail
+inputend
+print
+from
+to
+prbool
+rangep
+inputtail
+rangep
+from
+inputtail
+to
+from
+inputtail
+outputtail
+inputtail
+outputtail
+inputtail
+from
+inputtail
+to
+from
+outputtail
+inputtail
+nsassertion
+outputtail
+outputend
+invalid
+end
+of
+output
+outputtail
+outputend
+prfree
+outputdata
+prfalse
+inputtail
+inputend
+inputtail
+inputtail
+to
+inputtail
+inputtail
+to
+rangep
+outputtail
+outputtail
+outputtail
+from
+rangep
+prtrue
+inputtail
+outputtail
+to
+inputtail
+print
+inputtail
+outputtail
+to
+inputtail
+prfree
+mdata
+mdata
+outputdata
+mdatasize
+outputsize
+mlength
+outputtail
+outputdata
+outputtail
+outputdata
+outputend
+outputtail
+mlength
+outputtail
+outputend
+outputtail
+outputtail
+outputtail
+outputtail
+outputtail
+outputtail
+outputtail
+ifdef
+newsrcdoeshoststuff
+mhost
+mhost
+markdirty
+endif
+prtrue
+prbool
+nsmsgkeyset
+ismember
+print
+number
+prbool
+value
+prfalse
+print
+size
+print
+head
+print
+tail
+print
+end
+size
+mlength
+head
+mdata
+tail
+head
+end
+head
+size
+mcachedvalue
+mcachedvalue
+number
+tail
+mcachedvalueindex
+tail
+end
+tail
+print
+from
+tail
+print
+to
+from
+tail
+from
+number
+value
+prfalse
+done
+to
+number
+value
+prtrue
+done
+tail
+tail
+number
+value
+prtrue
+done
+tail
+number
+value
+prfalse
+done
+tail
+done
+mcachedvalue
+number
+mcachedvalueindex
+tail
+head
+value
+nsmsgkeyset
+add
+print
+number
+print
+size
+print
+head
+print
+tail
+print
+end
+ifdef
+debugmsgkeyset
+printf
+add
+number
+endif
+size
+mlength
+head
+mdata
+tail
+head
+end
+head
+size
+nsassertion
+number
+can
+have
+negative
+items
+number
+mcachedvalue
+tail
+end
+tail
+print
+from
+tail
+print
+to
+from
+tail
+from
+number
+to
+number
+to
+number
+tail
+tail
+number
+tail
+number
+tail
+mid
+tail
+head
+mdatasize
+mlength
+endo
+end
+head
+grow
+nserroroutofmemory
+head
+mdata
+end
+head
+endo
+tail
+end
+mdata
+mlength
+number
+print
+size
+mid
+mdata
+mdata
+mdata
+number
+mlength
+optimize
+nsmsgkeyset
+remove
+print
+number
+print
+size
+print
+head
+print
+tail
+print
+end
+ifdef
+debugmsgkeyset
+printf
+remove
+number
+endif
+size
+mlength
+head
+mdata
+tail
+head
+end
+head
+size
+mcachedvalue
+tail
+end
+print
+mid
+tail
+mdata
+tail
+print
+from
+tail
+print
+to
+from
+tail
+number
+from
+number
+to
+tail
+to
+from
+mdata
+mid
+number
+from
+to
+from
+mid
+mlength
+mdata
+mid
+mdata
+mid
+mlength
+optimize
+to
+from
+mdata
+mid
+from
+mdata
+mid
+to
+from
+number
+mdata
+mid
+from
+to
+number
+mdata
+mid
+to
+optimize
+from
+number
+mdata
+mid
+mdata
+mid
+optimize
+to
+number
+mdata
+mid
+optimize
+print
+endo
+end
+head
+mdatasize
+mlength
+grow
+nserroroutofmemory
+head
+mdata
+end
+head
+endo
+mlength
+mid
+mdata
+mdata
+mdata
+mid
+number
+from
+mdata
+mid
+from
+mdata
+mid
+to
+number
+mdata
+mid
+number
+mlength
+mdata
+mid
+mdata
+mid
+mdata
+mid
+mid
+mlength
+mdata
+mdata
+mlength
+mdata
+mid
+mdata
+mid
+mdata
+mid
+mid
+mlength
+mdata
+mdata
+mlength
+optimize
+tail
+number
+tail
+mlength
+mid
+mlength
+mdata
+mid
+mdata
+mid
+mid
+optimize
+print
+msgemitrange
+print
+tmp
+print
+print
+tmp
+nsassertion
+range
+is
+out
+of
+order
+tmp
+tmp
+tmp
+nsmsgkeyset
+addrange
+print
+start
+print
+end
+print
+tmplength
+print
+tmp
+print
+in
+print
+out
+print
+tail
+print
+print
+prbool
+didit
+prfalse
+mcachedvalue
+nsassertion
+start
+end
+invalid
+range
+start
+end
+start
+end
+add
+start
+tmplength
+mlength
+tmp
+print
+prmalloc
+print
+tmplength
+tmp
+nserroroutofmemory
+in
+mdata
+out
+tmp
+tail
+in
+mlength
+define
+emit
+out
+msgemitrange
+out
+in
+tail
+in
+in
+in
+in
+start
+end
+prfree
+tmp
+start
+emit
+end
+emit
+start
+end
+emit
+didit
+prtrue
+start
+start
+start
+end
+end
+end
+didit
+emit
+start
+end
+in
+tail
+out
+in
+undef
+emit
+prfree
+mdata
+mdata
+tmp
+mlength
+out
+tmp
+mdatasize
+tmplength
+ifdef
+newsrcdoeshoststuff
+mhost
+mhost
+markdirty
+endif
+print
+nsmsgkeyset
+countmissinginrange
+print
+rangestart
+print
+rangeend
+print
+count
+print
+head
+print
+tail
+print
+end
+nsassertion
+rangestart
+rangeend
+rangeend
+rangestart
+invalid
+range
+rangestart
+rangeend
+rangeend
+rangestart
+head
+mdata
+tail
+head
+end
+head
+mlength
+count
+rangeend
+rangestart
+tail
+end
+tail
+print
+from
+tail
+print
+to
+from
+tail
+from
+rangestart
+from
+rangestart
+to
+rangeend
+to
+rangeend
+to
+from
+count
+to
+from
+tail
+tail
+rangestart
+tail
+rangeend
+count
+tail
+nsassertion
+count
+invalid
+count
+count
+nsmsgkeyset
+firstmissingrange
+print
+min
+print
+max
+print
+first
+print
+last
+print
+size
+print
+head
+print
+tail
+print
+end
+print
+from
+print
+to
+print
+print
+nsassertion
+first
+last
+invalid
+parameter
+first
+last
+first
+last
+nsassertion
+min
+max
+min
+invalid
+min
+max
+param
+min
+max
+min
+size
+mlength
+head
+mdata
+tail
+head
+end
+head
+size
+tail
+end
+to
+tail
+from
+tail
+to
+from
+tail
+tail
+from
+to
+tail
+tail
+from
+max
+min
+first
+min
+min
+last
+max
+max
+to
+first
+min
+min
+last
+max
+nsmsgkeyset
+lastmissingrange
+print
+min
+print
+max
+print
+first
+print
+last
+print
+size
+print
+head
+print
+tail
+print
+end
+print
+from
+print
+to
+print
+print
+nsassertion
+first
+last
+invalid
+param
+first
+last
+first
+last
+nsassertion
+min
+max
+min
+invalid
+min
+max
+min
+max
+min
+size
+mlength
+head
+mdata
+tail
+head
+end
+head
+size
+tail
+end
+to
+tail
+from
+tail
+to
+from
+tail
+tail
+from
+to
+tail
+tail
+from
+max
+min
+first
+min
+min
+last
+max
+max
+to
+max
+to
+first
+min
+min
+last
+max
+nsresult
+nsmsgkeyset
+tomsgkeyarray
+nsmsgkeyarray
+aarray
+print
+size
+print
+head
+print
+tail
+print
+end
+print
+lastart
+nsmsgkeyarray
+array
+nsnewxpcom
+array
+nsmsgkeyarray
+array
+nserroroutofmemory
+size
+mlength
+head
+mdata
+tail
+head
+end
+head
+size
+tail
+end
+print
+from
+print
+to
+tail
+from
+tail
+to
+from
+tail
+tail
+from
+tail
+to
+from
+tail
+from
+from
+from
+lastart
+from
+lastart
+from
+to
+from
+to
+print
+from
+to
+array
+add
+array
+add
+from
+lastart
+to
+aarray
+array
+nsok
+ifdef
+debug
+define
+countof
+nsmsgkeyset
+testdecoder
+nsmsgkeyset
+set
+tmp
+set
+output
+tmp
+printf
+tmp
+nsmemory
+free
+tmp
+define
+start
+string
+string
+set
+nsmsgkeyset
+create
+abort
+define
+frob
+pushp
+nssucceeded
+set
+output
+abort
+printf
+lu
+lu
+set
+mlength
+pushp
+nsmemory
+free
+pushp
+set
+add
+set
+remove
+abort
+nssucceeded
+set
+output
+abort
+printf
+lu
+optimized
+set
+mlength
+nsmemory
+free
+define
+end
+nssucceeded
+set
+output
+abort
+printf
+lu
+set
+mlength
+nsmemory
+free
+set
+nsmsgkeyset
+testadder
+nsmsgkeyset
+set
+print
+start
+frob
+prtrue
+frob
+prtrue
+frob
+prtrue
+frob
+prtrue
+frob
+prtrue
+frob
+prtrue
+frob
+prtrue
+frob
+prfalse
+frob
+prfalse
+frob
+prfalse
+frob
+prfalse
+frob
+prfalse
+frob
+prfalse
+frob
+prfalse
+frob
+prtrue
+frob
+prtrue
+frob
+prtrue
+frob
+prtrue
+frob
+prtrue
+frob
+prtrue
+frob
+prtrue
+frob
+prfalse
+frob
+prfalse
+frob
+prfalse
+frob
+prfalse
+frob
+prfalse
+frob
+prfalse
+frob
+prfalse
+frob
+prtrue
+frob
+prtrue
+frob
+prtrue
+frob
+prtrue
+frob
+prtrue
+frob
+prtrue
+frob
+prtrue
+frob
+prtrue
+end
+start
+frob
+prfalse
+end
+start
+frob
+prfalse
+end
+start
+frob
+prfalse
+end
+start
+frob
+prfalse
+end
+start
+frob
+prfalse
+end
+start
+frob
+prfalse
+end
+start
+frob
+prfalse
+end
+start
+frob
+prfalse
+end
+start
+frob
+prfalse
+end
+start
+frob
+prfalse
+end
+start
+frob
+prfalse
+end
+start
+frob
+prfalse
+end
+start
+frob
+prfalse
+end
+start
+frob
+prfalse
+frob
+prtrue
+frob
+prtrue
+frob
+prtrue
+frob
+prfalse
+frob
+prtrue
+frob
+prfalse
+frob
+prfalse
+frob
+prfalse
+frob
+prfalse
+frob
+prfalse
+frob
+prfalse
+frob
+prfalse
+frob
+prfalse
+frob
+prfalse
+frob
+prfalse
+frob
+prfalse
+frob
+prfalse
+end
+undef
+start
+undef
+frob
+undef
+end
+define
+start
+string
+string
+set
+nsmsgkeyset
+create
+abort
+define
+frob
+nssucceeded
+set
+output
+abort
+printf
+lu
+lu
+lu
+set
+mlength
+nsmemory
+free
+set
+addrange
+printf
+no
+op
+abort
+nssucceeded
+set
+output
+abort
+printf
+lu
+set
+mlength
+nsmemory
+free
+define
+end
+nssucceeded
+set
+output
+abort
+printf
+lu
+set
+mlength
+nsmemory
+free
+set
+nsmsgkeyset
+testranges
+nsmsgkeyset
+set
+print
+print
+start
+frob
+frob
+frob
+frob
+frob
+frob
+frob
+frob
+frob
+end
+undef
+start
+undef
+frob
+undef
+end
+define
+test
+withcache
+set
+mcachedvalue
+nssucceeded
+set
+output
+abort
+printf
+set
+ismember
+nsmsgkeyset
+testmember
+prbool
+withcache
+nsmsgkeyset
+set
+printf
+ntesting
+with
+cache
+withcache
+out
+set
+create
+abort
+test
+test
+test
+test
+set
+printf
+ntesting
+with
+cache
+withcache
+out
+set
+create
+abort
+test
+test
+test
+test
+test
+test
+test
+test
+test
+test
+test
+test
+test
+test
+test
+test
+test
+test
+test
+test
+test
+test
+test
+test
+test
+test
+set
+undef
+test
+nsmsgkeyset
+runtests
+testdecoder
+testdecoder
+testdecoder
+testdecoder
+testdecoder
+testdecoder
+testdecoder
+testdecoder
+testdecoder
+testdecoder
+testdecoder
+testadder
+testranges
+testmember
+prfalse
+testmember
+prtrue
+endif
\ No newline at end of file
@@ -0,0 +1,1412 @@
+msgcore
+nsmsgmailnewsurl
+nsmsgbasecid
+nsimsgmailsession
+nsimsgaccountmanager
+nsxpidlstring
+nsreadableutils
+nsidocumentloader
+nsiloadgroup
+nsiwebshell
+nsidocshell
+nsiwebprogress
+nsiwebprogresslistener
+nsiinterfacerequestor
+nsiinterfacerequestorutils
+nsiioservice
+nsnetcid
+nsescape
+nsistreamlistener
+nsioutputstream
+nsiinputstream
+nsifilespec
+time
+nsdefinecid
+kioservicecid
+nsioservicecid
+nsmsgmailnewsurl
+nsmsgmailnewsurl
+merrormessage
+nsnull
+mrunningurl
+prfalse
+mupdatingfolder
+prfalse
+maddcontenttocache
+prfalse
+mmsgisinlocalcache
+prfalse
+msuppresserrormsgs
+prfalse
+murllisteners
+docreateinstance
+nsurllistenermanagercontractid
+mbaseurl
+docreateinstance
+nsstandardurlcontractid
+nsmsgmailnewsurl
+nsmsgmailnewsurl
+prfreeif
+merrormessage
+nsimplthreadsafeaddref
+nsmsgmailnewsurl
+nsimplthreadsaferelease
+nsmsgmailnewsurl
+nsinterfacemapbegin
+nsmsgmailnewsurl
+nsinterfacemapentryambiguous
+nsisupports
+nsimsgmailnewsurl
+nsinterfacemapentry
+nsimsgmailnewsurl
+nsinterfacemapentry
+nsiurl
+nsinterfacemapentry
+nsiuri
+nsinterfacemapendthreadsafe
+nsresult
+nsmsgmailnewsurl
+geturlstate
+prbool
+arunningurl
+arunningurl
+arunningurl
+mrunningurl
+nsok
+nsresult
+nsmsgmailnewsurl
+seturlstate
+prbool
+arunningurl
+nsresult
+aexitcode
+mrunningurl
+arunningurl
+aexitcode
+nsmsgerrorurlaborted
+nsok
+mrunningurl
+arunningurl
+nscomptr
+nsimsgstatusfeedback
+statusfeedback
+nssucceeded
+getstatusfeedback
+getteraddrefs
+statusfeedback
+statusfeedback
+mrunningurl
+statusfeedback
+startmeteors
+statusfeedback
+showprogress
+statusfeedback
+stopmeteors
+murllisteners
+mrunningurl
+murllisteners
+onstartrunningurl
+murllisteners
+onstoprunningurl
+aexitcode
+mloadgroup
+nsnull
+printf
+no
+listeners
+in
+set
+url
+state
+nsok
+nsresult
+nsmsgmailnewsurl
+registerlistener
+nsiurllistener
+aurllistener
+murllisteners
+murllisteners
+registerlistener
+aurllistener
+nsok
+nsresult
+nsmsgmailnewsurl
+unregisterlistener
+nsiurllistener
+aurllistener
+murllisteners
+murllisteners
+unregisterlistener
+aurllistener
+nsok
+nsresult
+nsmsgmailnewsurl
+seterrormessage
+errormessage
+nserrornotimplemented
+nsresult
+nsmsgmailnewsurl
+geterrormessage
+errormessage
+nserrornotimplemented
+nsimethodimp
+nsmsgmailnewsurl
+getserver
+nsimsgincomingserver
+aincomingserver
+nscautostring
+host
+nscautostring
+scheme
+nscautostring
+username
+nsresult
+rv
+getasciihost
+host
+getusername
+username
+nsunescapeurl
+username
+rv
+getscheme
+scheme
+nssucceeded
+rv
+scheme
+equals
+pop
+scheme
+assign
+pop
+scheme
+equals
+news
+scheme
+assign
+nntp
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+accountmanager
+findserver
+username
+get
+host
+get
+scheme
+get
+aincomingserver
+aincomingserver
+scheme
+equals
+imap
+rv
+accountmanager
+findserver
+host
+get
+scheme
+get
+aincomingserver
+rv
+nsimethodimp
+nsmsgmailnewsurl
+setstatusfeedback
+nsimsgstatusfeedback
+amsgfeedback
+amsgfeedback
+mstatusfeedback
+doqueryinterface
+amsgfeedback
+nsok
+nsimethodimp
+nsmsgmailnewsurl
+getmsgwindow
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+nsok
+mmsgwindow
+amsgwindow
+amsgwindow
+mmsgwindow
+nsifaddref
+amsgwindow
+rv
+nserrornullpointer
+rv
+nsimethodimp
+nsmsgmailnewsurl
+setmsgwindow
+nsimsgwindow
+amsgwindow
+amsgwindow
+mmsgwindow
+doqueryinterface
+amsgwindow
+nsok
+nsimethodimp
+nsmsgmailnewsurl
+getstatusfeedback
+nsimsgstatusfeedback
+amsgfeedback
+nsresult
+rv
+nsok
+mstatusfeedback
+mmsgwindow
+mmsgwindow
+getstatusfeedback
+getteraddrefs
+mstatusfeedback
+amsgfeedback
+amsgfeedback
+mstatusfeedback
+nsifaddref
+amsgfeedback
+rv
+nserrornullpointer
+rv
+nsimethodimp
+nsmsgmailnewsurl
+getloadgroup
+nsiloadgroup
+aloadgroup
+nsresult
+rv
+nsok
+mloadgroup
+mmsgwindow
+nscomptr
+nsidocshell
+docshell
+mmsgwindow
+getrootdocshell
+getteraddrefs
+docshell
+nscomptr
+nsiwebshell
+webshell
+doqueryinterface
+docshell
+nscomptr
+nsimsgstatusfeedback
+statusfeedback
+mmsgwindow
+getstatusfeedback
+getteraddrefs
+statusfeedback
+statusfeedback
+nscomptr
+nsiwebprogress
+webprogress
+dogetinterface
+docshell
+nscomptr
+nsiwebprogresslistener
+webprogresslistener
+doqueryinterface
+statusfeedback
+statusfeedback
+docshell
+webprogresslistener
+doqueryinterface
+statusfeedback
+webprogress
+addprogresslistener
+webprogresslistener
+nsiwebprogress
+notifyall
+endif
+webshell
+nscomptr
+nsidocumentloader
+docloader
+webshell
+getdocumentloader
+getteraddrefs
+docloader
+docloader
+docloader
+getloadgroup
+getteraddrefs
+mloadgroup
+aloadgroup
+aloadgroup
+mloadgroup
+nsifaddref
+aloadgroup
+rv
+nserrornullpointer
+rv
+nsimethodimp
+nsmsgmailnewsurl
+getupdatingfolder
+prbool
+aresult
+nsensurearg
+aresult
+aresult
+mupdatingfolder
+nsok
+nsimethodimp
+nsmsgmailnewsurl
+setupdatingfolder
+prbool
+updatingfolder
+mupdatingfolder
+updatingfolder
+nsok
+nsimethodimp
+nsmsgmailnewsurl
+getaddtomemorycache
+prbool
+aaddtocache
+nsensurearg
+aaddtocache
+aaddtocache
+maddcontenttocache
+nsok
+nsimethodimp
+nsmsgmailnewsurl
+setaddtomemorycache
+prbool
+aaddtocache
+maddcontenttocache
+aaddtocache
+nsok
+nsimethodimp
+nsmsgmailnewsurl
+getmsgisinlocalcache
+prbool
+amsgisinlocalcache
+nsensurearg
+amsgisinlocalcache
+amsgisinlocalcache
+mmsgisinlocalcache
+nsok
+nsimethodimp
+nsmsgmailnewsurl
+setmsgisinlocalcache
+prbool
+amsgisinlocalcache
+mmsgisinlocalcache
+amsgisinlocalcache
+nsok
+nsimethodimp
+nsmsgmailnewsurl
+getsuppresserrormsgs
+prbool
+asuppresserrormsgs
+nsensurearg
+asuppresserrormsgs
+asuppresserrormsgs
+msuppresserrormsgs
+nsok
+nsimethodimp
+nsmsgmailnewsurl
+setsuppresserrormsgs
+prbool
+asuppresserrormsgs
+msuppresserrormsgs
+asuppresserrormsgs
+nsok
+nsimethodimp
+nsmsgmailnewsurl
+isurltype
+pruint
+type
+prbool
+istype
+nsensurearg
+istype
+istype
+prfalse
+nsok
+nsimethodimp
+nsmsgmailnewsurl
+setsearchsession
+nsimsgsearchsession
+asearchsession
+asearchsession
+msearchsession
+doqueryinterface
+asearchsession
+nsok
+nsimethodimp
+nsmsgmailnewsurl
+getsearchsession
+nsimsgsearchsession
+asearchsession
+nsensurearg
+asearchsession
+asearchsession
+msearchsession
+nsifaddref
+asearchsession
+nsok
+nsimethodimp
+nsmsgmailnewsurl
+getspec
+nsacstring
+aspec
+mbaseurl
+getspec
+aspec
+define
+filenamepart
+filename
+define
+filenamepartlen
+nsimethodimp
+nsmsgmailnewsurl
+setspec
+nsacstring
+aspec
+nspromiseflatcstring
+spec
+promiseflatcstring
+aspec
+start
+end
+start
+plstrcasestr
+spec
+get
+filenamepart
+start
+end
+plstrcasestr
+start
+filenamepartlen
+end
+end
+mattachmentfilename
+start
+filenamepartlen
+end
+mattachmentfilename
+start
+filenamepartlen
+mbaseurl
+setspec
+aspec
+nsimethodimp
+nsmsgmailnewsurl
+getprepath
+nsacstring
+aprepath
+mbaseurl
+getprepath
+aprepath
+nsimethodimp
+nsmsgmailnewsurl
+getscheme
+nsacstring
+ascheme
+mbaseurl
+getscheme
+ascheme
+nsimethodimp
+nsmsgmailnewsurl
+setscheme
+nsacstring
+ascheme
+mbaseurl
+setscheme
+ascheme
+nsimethodimp
+nsmsgmailnewsurl
+getuserpass
+nsacstring
+auserpass
+mbaseurl
+getuserpass
+auserpass
+nsimethodimp
+nsmsgmailnewsurl
+setuserpass
+nsacstring
+auserpass
+mbaseurl
+setuserpass
+auserpass
+nsimethodimp
+nsmsgmailnewsurl
+getusername
+nsacstring
+ausername
+mbaseurl
+getusername
+ausername
+nsimethodimp
+nsmsgmailnewsurl
+setusername
+nsacstring
+ausername
+mbaseurl
+setusername
+ausername
+nsimethodimp
+nsmsgmailnewsurl
+getpassword
+nsacstring
+apassword
+mbaseurl
+getpassword
+apassword
+nsimethodimp
+nsmsgmailnewsurl
+setpassword
+nsacstring
+apassword
+mbaseurl
+setpassword
+apassword
+nsimethodimp
+nsmsgmailnewsurl
+gethostport
+nsacstring
+ahostport
+mbaseurl
+gethostport
+ahostport
+nsimethodimp
+nsmsgmailnewsurl
+sethostport
+nsacstring
+ahostport
+mbaseurl
+sethostport
+ahostport
+nsimethodimp
+nsmsgmailnewsurl
+gethost
+nsacstring
+ahost
+mbaseurl
+gethost
+ahost
+nsimethodimp
+nsmsgmailnewsurl
+sethost
+nsacstring
+ahost
+mbaseurl
+sethost
+ahost
+nsimethodimp
+nsmsgmailnewsurl
+getport
+print
+aport
+mbaseurl
+getport
+aport
+nsimethodimp
+nsmsgmailnewsurl
+setport
+print
+aport
+mbaseurl
+setport
+aport
+nsimethodimp
+nsmsgmailnewsurl
+getpath
+nsacstring
+apath
+mbaseurl
+getpath
+apath
+nsimethodimp
+nsmsgmailnewsurl
+setpath
+nsacstring
+apath
+mbaseurl
+setpath
+apath
+nsimethodimp
+nsmsgmailnewsurl
+getasciihost
+nsacstring
+ahosta
+mbaseurl
+getasciihost
+ahosta
+nsimethodimp
+nsmsgmailnewsurl
+getasciispec
+nsacstring
+aspeca
+mbaseurl
+getasciispec
+aspeca
+nsimethodimp
+nsmsgmailnewsurl
+getorigincharset
+nsacstring
+aorigincharset
+mbaseurl
+getorigincharset
+aorigincharset
+nsimethodimp
+nsmsgmailnewsurl
+getbaseuri
+nsiuri
+abaseuri
+nsensureargpointer
+abaseuri
+mbaseurl
+queryinterface
+nsgetiid
+nsiuri
+abaseuri
+nsimethodimp
+nsmsgmailnewsurl
+equals
+nsiuri
+other
+prbool
+retval
+nscomptr
+nsimsgmailnewsurl
+mailurl
+doqueryinterface
+other
+mailurl
+nscomptr
+nsiuri
+baseuri
+mailurl
+getbaseuri
+getteraddrefs
+baseuri
+baseuri
+mbaseurl
+equals
+baseuri
+retval
+mbaseurl
+equals
+other
+retval
+nsimethodimp
+nsmsgmailnewsurl
+schemeis
+ascheme
+prbool
+retval
+nscautostring
+scheme
+nsresult
+rv
+mbaseurl
+getscheme
+scheme
+nsensuresuccess
+rv
+rv
+scheme
+isempty
+mbaseurl
+schemeis
+ascheme
+retval
+retval
+prfalse
+nsok
+nsimethodimp
+nsmsgmailnewsurl
+clone
+nsiuri
+retval
+nsresult
+rv
+nscautostring
+urlspec
+nscomptr
+nsiioservice
+ioservice
+dogetservice
+kioservicecid
+rv
+nsfailed
+rv
+rv
+rv
+getspec
+urlspec
+nsfailed
+rv
+rv
+ioservice
+newuri
+urlspec
+nsnull
+nsnull
+retval
+nsimethodimp
+nsmsgmailnewsurl
+resolve
+nsacstring
+relativepath
+nsacstring
+result
+nsresult
+rv
+nsok
+relativepath
+first
+mbaseurl
+resolve
+relativepath
+result
+nscomptr
+nsiioservice
+ioservice
+dogetservice
+nsioservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscautostring
+scheme
+rv
+ioservice
+extractscheme
+relativepath
+scheme
+nssucceeded
+rv
+scheme
+isempty
+result
+relativepath
+result
+truncate
+rv
+nserrorfailure
+nsok
+nsimethodimp
+nsmsgmailnewsurl
+getdirectory
+nsacstring
+adirectory
+mbaseurl
+getdirectory
+adirectory
+nsimethodimp
+nsmsgmailnewsurl
+setdirectory
+nsacstring
+adirectory
+mbaseurl
+setdirectory
+adirectory
+nsimethodimp
+nsmsgmailnewsurl
+getfilename
+nsacstring
+afilename
+mattachmentfilename
+isempty
+afilename
+mattachmentfilename
+nsok
+mbaseurl
+getfilename
+afilename
+nsimethodimp
+nsmsgmailnewsurl
+getfilebasename
+nsacstring
+afilebasename
+mbaseurl
+getfilebasename
+afilebasename
+nsimethodimp
+nsmsgmailnewsurl
+setfilebasename
+nsacstring
+afilebasename
+mbaseurl
+setfilebasename
+afilebasename
+nsimethodimp
+nsmsgmailnewsurl
+getfileextension
+nsacstring
+afileextension
+mattachmentfilename
+isempty
+nscautostring
+extension
+print
+pos
+mattachmentfilename
+rfindchar
+prunichar
+pos
+mattachmentfilename
+right
+extension
+mattachmentfilename
+length
+pos
+afileextension
+extension
+nsok
+mbaseurl
+getfileextension
+afileextension
+nsimethodimp
+nsmsgmailnewsurl
+setfileextension
+nsacstring
+afileextension
+mbaseurl
+setfileextension
+afileextension
+nsimethodimp
+nsmsgmailnewsurl
+setfilename
+nsacstring
+afilename
+mattachmentfilename
+afilename
+nsok
+nsimethodimp
+nsmsgmailnewsurl
+getparam
+nsacstring
+aparam
+mbaseurl
+getparam
+aparam
+nsimethodimp
+nsmsgmailnewsurl
+setparam
+nsacstring
+aparam
+mbaseurl
+setparam
+aparam
+nsimethodimp
+nsmsgmailnewsurl
+getquery
+nsacstring
+aquery
+mbaseurl
+getquery
+aquery
+nsimethodimp
+nsmsgmailnewsurl
+setquery
+nsacstring
+aquery
+mbaseurl
+setquery
+aquery
+nsimethodimp
+nsmsgmailnewsurl
+getref
+nsacstring
+aref
+mbaseurl
+getref
+aref
+nsimethodimp
+nsmsgmailnewsurl
+setref
+nsacstring
+aref
+mbaseurl
+setref
+aref
+nsimethodimp
+nsmsgmailnewsurl
+getfilepath
+nsacstring
+odirfile
+mbaseurl
+getfilepath
+odirfile
+nsimethodimp
+nsmsgmailnewsurl
+setfilepath
+nsacstring
+idirfile
+mbaseurl
+setfilepath
+idirfile
+nsimethodimp
+nsmsgmailnewsurl
+getcommonbasespec
+nsiuri
+uri
+nsacstring
+result
+mbaseurl
+getcommonbasespec
+uri
+result
+nsimethodimp
+nsmsgmailnewsurl
+getrelativespec
+nsiuri
+uri
+nsacstring
+result
+mbaseurl
+getrelativespec
+uri
+result
+nsimethodimp
+nsmsgmailnewsurl
+setmemcacheentry
+nsicacheentrydescriptor
+memcacheentry
+mmemcacheentry
+memcacheentry
+nsok
+nsimethodimp
+nsmsgmailnewsurl
+getmemcacheentry
+nsicacheentrydescriptor
+memcacheentry
+nsensurearg
+memcacheentry
+nsresult
+rv
+nsok
+mmemcacheentry
+memcacheentry
+mmemcacheentry
+nsaddref
+memcacheentry
+memcacheentry
+nsnull
+nserrornullpointer
+rv
+nsimethodimp
+nsmsgmailnewsurl
+setimagecachesession
+nsicachesession
+imagecachesession
+mimagecachesession
+imagecachesession
+nsok
+nsimethodimp
+nsmsgmailnewsurl
+getimagecachesession
+nsicachesession
+imagecachesession
+nsensurearg
+imagecachesession
+nsifaddref
+imagecachesession
+mimagecachesession
+nsok
+nsimethodimp
+nsmsgmailnewsurl
+cachecacheentry
+nsicacheentrydescriptor
+cacheentry
+mcachedmemcacheentries
+nsnewisupportsarray
+getteraddrefs
+mcachedmemcacheentries
+mcachedmemcacheentries
+nscomptr
+nsisupports
+cacheentrysupports
+doqueryinterface
+cacheentry
+cacheentrysupports
+mcachedmemcacheentries
+appendelement
+cacheentrysupports
+nsok
+nsimethodimp
+nsmsgmailnewsurl
+removecacheentry
+nsicacheentrydescriptor
+cacheentry
+mcachedmemcacheentries
+nscomptr
+nsisupports
+cacheentrysupports
+doqueryinterface
+cacheentry
+cacheentrysupports
+mcachedmemcacheentries
+removeelement
+cacheentrysupports
+nsok
+nsimethodimp
+nsmsgmailnewsurl
+getmimeheaders
+nsimimeheaders
+mimeheaders
+nsensureargpointer
+mimeheaders
+nsifaddref
+mimeheaders
+mmimeheaders
+mmimeheaders
+nsok
+nserrornullpointer
+nsimethodimp
+nsmsgmailnewsurl
+setmimeheaders
+nsimimeheaders
+mimeheaders
+mmimeheaders
+mimeheaders
+nsok
+define
+savebufsize
+nsmsgsaveaslistener
+nsistreamlistener
+nsdeclisupports
+nsdeclnsirequestobserver
+nsdeclnsistreamlistener
+nsmsgsaveaslistener
+nsifilespec
+afilespec
+prbool
+adddummyenvelope
+nsmsgsaveaslistener
+nsresult
+setupmsgwritestream
+nsifilespec
+afilespec
+prbool
+adddummyenvelope
+nscomptr
+nsioutputstream
+moutputstream
+nscomptr
+nsifilespec
+moutputfile
+prbool
+madddummyenvelope
+prbool
+mwrittendata
+pruint
+mleftover
+mdatabuffer
+savebufsize
+nsimplisupports
+nsmsgsaveaslistener
+nsistreamlistener
+nsmsgsaveaslistener
+nsmsgsaveaslistener
+nsifilespec
+afilespec
+prbool
+adddummyenvelope
+moutputfile
+afilespec
+mwrittendata
+prfalse
+madddummyenvelope
+adddummyenvelope
+mleftover
+nsmsgsaveaslistener
+nsmsgsaveaslistener
+nsimethodimp
+nsmsgsaveaslistener
+onstartrequest
+nsirequest
+request
+nsisupports
+ctxt
+nsok
+nsimethodimp
+nsmsgsaveaslistener
+onstoprequest
+nsirequest
+request
+nsisupports
+actxt
+nsresult
+astatus
+moutputstream
+moutputstream
+flush
+moutputstream
+close
+moutputfile
+moutputfile
+closestream
+nsok
+nsimethodimp
+nsmsgsaveaslistener
+ondataavailable
+nsirequest
+request
+nsisupports
+asupport
+nsiinputstream
+instream
+pruint
+srcoffset
+pruint
+count
+nsresult
+rv
+pruint
+available
+rv
+instream
+available
+available
+mwrittendata
+mwrittendata
+prtrue
+rv
+setupmsgwritestream
+moutputfile
+madddummyenvelope
+nsensuresuccess
+rv
+rv
+pruint
+readcount
+maxreadcount
+savebufsize
+mleftover
+pruint
+writecount
+start
+end
+pruint
+linebreaklen
+count
+count
+maxreadcount
+maxreadcount
+count
+rv
+instream
+read
+mdatabuffer
+mleftover
+maxreadcount
+readcount
+nsfailed
+rv
+rv
+mleftover
+readcount
+mdatabuffer
+mleftover
+start
+mdatabuffer
+end
+plstrchr
+start
+end
+end
+plstrchr
+start
+end
+nscrt
+lf
+linebreaklen
+linebreaklen
+linebreaklen
+linebreaklen
+count
+readcount
+maxreadcount
+savebufsize
+mleftover
+end
+count
+maxreadcount
+nserrorfailure
+start
+end
+plstrncasecmp
+start
+mozilla
+status
+plstrncasecmp
+start
+mozilla
+status
+plstrncmp
+start
+from
+rv
+moutputstream
+write
+start
+end
+start
+writecount
+rv
+moutputstream
+write
+msglinebreak
+msglinebreak
+writecount
+start
+end
+linebreaklen
+start
+mdatabuffer
+mleftover
+maxreadcount
+savebufsize
+mleftover
+end
+plstrchr
+start
+end
+end
+plstrchr
+start
+start
+end
+mleftover
+start
+mdatabuffer
+memcpy
+mdatabuffer
+start
+mleftover
+maxreadcount
+savebufsize
+mleftover
+nsfailed
+rv
+rv
+rv
+nsresult
+nsmsgsaveaslistener
+setupmsgwritestream
+nsifilespec
+afilespec
+prbool
+adddummyenvelope
+nsresult
+rv
+nserrorfailure
+nsfilespec
+filespec
+afilespec
+getfilespec
+filespec
+filespec
+delete
+prfalse
+rv
+afilespec
+getoutputstream
+getteraddrefs
+moutputstream
+nsensuresuccess
+rv
+rv
+moutputstream
+adddummyenvelope
+nscautostring
+result
+ct
+pruint
+writecount
+timet
+now
+time
+timet
+ct
+ctime
+now
+ct
+result
+from
+result
+ct
+result
+msglinebreak
+moutputstream
+write
+result
+get
+result
+length
+writecount
+result
+mozilla
+status
+result
+msglinebreak
+moutputstream
+write
+result
+get
+result
+length
+writecount
+result
+mozilla
+status
+result
+msglinebreak
+moutputstream
+write
+result
+get
+result
+length
+writecount
+rv
+nsimethodimp
+nsmsgmailnewsurl
+getsaveaslistener
+prbool
+adddummyenvelope
+nsifilespec
+afilespec
+nsistreamlistener
+asavelistener
+nsensureargpointer
+asavelistener
+nsmsgsaveaslistener
+saveaslistener
+nsmsgsaveaslistener
+afilespec
+adddummyenvelope
+saveaslistener
+queryinterface
+nsgetiid
+nsistreamlistener
+asavelistener
+nsimethodimp
+nsmsgmailnewsurl
+setfolder
+nsimsgfolder
+nserrornotimplemented
+nsimethodimp
+nsmsgmailnewsurl
+getfolder
+nsimsgfolder
+nserrornotimplemented
\ No newline at end of file
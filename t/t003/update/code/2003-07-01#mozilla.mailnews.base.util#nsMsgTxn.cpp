@@ -0,0 +1,133 @@
+nsmsgtxn
+nsimsghdr
+nsdefineiid
+kisupportsiid
+nsisupportsiid
+nsimplthreadsafeaddref
+nsmsgtxn
+nsimplthreadsaferelease
+nsmsgtxn
+nsimplthreadsafequeryinterface
+nsmsgtxn
+nsitransaction
+nsmsgtxn
+nsmsgtxn
+mtxntype
+nsmsgtxn
+nsmsgtxn
+nsimethodimp
+nsmsgtxn
+dotransaction
+nsok
+nsimethodimp
+nsmsgtxn
+getistransient
+prbool
+aistransient
+nsnull
+aistransient
+aistransient
+prfalse
+nserrornullpointer
+nsok
+nsimethodimp
+nsmsgtxn
+merge
+nsitransaction
+atransaction
+prbool
+adidmerge
+nserrornotimplemented
+nsimethodimp
+nsmsgtxn
+getmsgwindow
+nsimsgwindow
+msgwindow
+msgwindow
+mmsgwindow
+nserrornullpointer
+msgwindow
+mmsgwindow
+nsaddref
+msgwindow
+nsok
+nsimethodimp
+nsmsgtxn
+setmsgwindow
+nsimsgwindow
+msgwindow
+mmsgwindow
+msgwindow
+nsok
+nsimethodimp
+nsmsgtxn
+gettransactiontype
+pruint
+txntype
+txntype
+nserrornullpointer
+txntype
+mtxntype
+nsok
+nsimethodimp
+nsmsgtxn
+settransactiontype
+pruint
+txntype
+mtxntype
+txntype
+nsok
+nsresult
+nsmsgtxn
+checkfortoggledelete
+nsimsgfolder
+afolder
+nsmsgkey
+amsgkey
+prbool
+aresult
+nsensurearg
+aresult
+nscomptr
+nsimsgdbhdr
+message
+nscomptr
+nsimsgdatabase
+db
+nsresult
+rv
+afolder
+getmsgdatabase
+nsnull
+getteraddrefs
+db
+db
+prbool
+containskey
+rv
+db
+containskey
+amsgkey
+containskey
+nsfailed
+rv
+containskey
+nsok
+rv
+db
+getmsghdrforkey
+amsgkey
+getteraddrefs
+message
+pruint
+flags
+nssucceeded
+rv
+message
+message
+getflags
+flags
+aresult
+flags
+msgflagimapdeleted
+rv
\ No newline at end of file
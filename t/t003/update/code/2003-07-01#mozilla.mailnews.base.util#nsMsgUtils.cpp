@@ -0,0 +1,1180 @@
+msgcore
+nsimsghdr
+nsmsgutils
+nsstring
+nsreadableutils
+nsfilespec
+nsescape
+nsiservicemanager
+nscomptr
+nsiimapurl
+nsimailboxurl
+nsinntpurl
+nsmsgnewscid
+nsmsglocalcid
+nsmsgbasecid
+nsmsgimapcid
+nsmsgin
+prprf
+nsnetcid
+nsiioservice
+nsirdfservice
+nsimimeconverter
+nsmsgmimecid
+nsicategorymanager
+nscategorymanagerutils
+nsispamsettings
+nsisignatureverifier
+nsdefinecid
+kimapurlcid
+nsimapurlcid
+nsdefinecid
+kcmailboxurl
+nsmailboxurlcid
+nsdefinecid
+kcnntpurlcid
+nsnntpurlcid
+define
+nspasswordmanagercategory
+passwordmanager
+prbool
+ginitpasswordmanager
+prfalse
+nsresult
+getmessageservicecontractidforuri
+uri
+nscstring
+contractid
+nsresult
+rv
+nsok
+nscautostring
+uristr
+uri
+print
+pos
+uristr
+findchar
+pos
+knotfound
+nserrorfailure
+nscautostring
+protocol
+uristr
+left
+protocol
+pos
+contractid
+messenger
+messageservice
+type
+contractid
+protocol
+get
+rv
+nsresult
+getmessageservicefromuri
+uri
+nsimsgmessageservice
+amessageservice
+nsresult
+rv
+nscautostring
+contractid
+rv
+getmessageservicecontractidforuri
+uri
+contractid
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgmessageservice
+msgservice
+dogetservice
+contractid
+get
+rv
+nsensuresuccess
+rv
+rv
+nsifaddref
+amessageservice
+msgservice
+rv
+nsresult
+getmsgdbhdrfromuri
+uri
+nsimsgdbhdr
+msghdr
+nscomptr
+nsimsgmessageservice
+msgmessageservice
+nsresult
+rv
+getmessageservicefromuri
+uri
+getteraddrefs
+msgmessageservice
+nsensuresuccess
+rv
+rv
+msgmessageservice
+nserrorfailure
+msgmessageservice
+messageuritomsghdr
+uri
+msghdr
+nsresult
+createstartupurl
+uri
+nsiuri
+aurl
+nsresult
+rv
+nserrornullpointer
+uri
+uri
+aurl
+rv
+aurl
+nsnull
+plstrncasecmp
+uri
+imap
+nscomptr
+nsiimapurl
+imapurl
+docreateinstance
+kimapurlcid
+rv
+nssucceeded
+rv
+imapurl
+rv
+imapurl
+queryinterface
+nsgetiid
+nsiuri
+aurl
+plstrncasecmp
+uri
+mailbox
+nscomptr
+nsimailboxurl
+mailboxurl
+docreateinstance
+kcmailboxurl
+rv
+nssucceeded
+rv
+mailboxurl
+rv
+mailboxurl
+queryinterface
+nsgetiid
+nsiuri
+aurl
+plstrncasecmp
+uri
+news
+nscomptr
+nsinntpurl
+nntpurl
+docreateinstance
+kcnntpurlcid
+rv
+nssucceeded
+rv
+nntpurl
+rv
+nntpurl
+queryinterface
+nsgetiid
+nsiuri
+aurl
+aurl
+aurl
+setspec
+nsdependentcstring
+uri
+rv
+nsresult
+nsmsggetpriorityfromstring
+priority
+nsmsgpriorityvalue
+outpriority
+outpriority
+nserrornullpointer
+nsmsgpriorityvalue
+retpriority
+nsmsgpriority
+normal
+plstrcasestr
+priority
+normal
+retpriority
+nsmsgpriority
+normal
+plstrcasestr
+priority
+lowest
+retpriority
+nsmsgpriority
+lowest
+plstrcasestr
+priority
+highest
+retpriority
+nsmsgpriority
+highest
+plstrcasestr
+priority
+high
+plstrcasestr
+priority
+urgent
+retpriority
+nsmsgpriority
+high
+plstrcasestr
+priority
+low
+plstrcasestr
+priority
+non
+urgent
+retpriority
+nsmsgpriority
+low
+plstrcasestr
+priority
+retpriority
+nsmsgpriority
+highest
+plstrcasestr
+priority
+retpriority
+nsmsgpriority
+high
+plstrcasestr
+priority
+retpriority
+nsmsgpriority
+normal
+plstrcasestr
+priority
+retpriority
+nsmsgpriority
+low
+plstrcasestr
+priority
+retpriority
+nsmsgpriority
+lowest
+retpriority
+nsmsgpriority
+normal
+outpriority
+retpriority
+nsok
+nsresult
+nsmsggetuntranslatedpriorityname
+nsmsgpriorityvalue
+nsstring
+outname
+outname
+nserrornullpointer
+nsmsgpriority
+notset
+nsmsgpriority
+none
+outname
+assign
+nsliteralstring
+none
+nsmsgpriority
+lowest
+outname
+assign
+nsliteralstring
+lowest
+nsmsgpriority
+low
+outname
+assign
+nsliteralstring
+low
+nsmsgpriority
+normal
+outname
+assign
+nsliteralstring
+normal
+nsmsgpriority
+high
+outname
+assign
+nsliteralstring
+high
+nsmsgpriority
+highest
+outname
+assign
+nsliteralstring
+highest
+nsassertion
+prfalse
+invalid
+priority
+value
+nsok
+pruint
+stringhash
+ubuf
+buf
+ubuf
+pruint
+buf
+xccd
+xccd
+int
+buf
+buf
+nsresult
+nsmsghashifnecessary
+nscautostring
+name
+defined
+xpmac
+pruint
+maxlen
+elif
+defined
+xpunix
+defined
+xpbeos
+pruint
+maxlen
+elif
+defined
+xpwin
+pruint
+maxlen
+elif
+defined
+xpos
+pruint
+maxlen
+error
+needtodefineyourmaxfilenamelength
+endif
+nscautostring
+illegalchars
+filepathseparator
+fileillegalcharacters
+nscautostring
+str
+name
+print
+illegalcharacterindex
+str
+findcharinset
+illegalchars
+hashedname
+maxlen
+illegalcharacterindex
+knotfound
+str
+length
+maxlen
+plstrncpy
+hashedname
+str
+get
+maxlen
+prsnprintf
+hashedname
+maxlen
+lx
+stringhash
+str
+get
+name
+hashedname
+prsnprintf
+hashedname
+lx
+stringhash
+str
+get
+name
+hashedname
+nsok
+nsresult
+nsmsgcreatepathstringfromfolderuri
+folderuri
+nscstring
+pathstring
+nscautostring
+oldpath
+nscrt
+isascii
+folderuri
+oldpath
+assign
+folderuri
+nativestring
+nsnull
+nsresult
+rv
+convertfromunicode
+nsmsginfilesystemcharset
+nsautostring
+nsconvertutftoucs
+folderuri
+nativestring
+nssucceeded
+rv
+nativestring
+nativestring
+oldpath
+assign
+nativestring
+oldpath
+assign
+folderuri
+prfreeif
+nativestring
+nscautostring
+pathpiece
+print
+startslashpos
+oldpath
+findchar
+print
+endslashpos
+startslashpos
+oldpath
+findchar
+startslashpos
+oldpath
+length
+endslashpos
+endslashpos
+oldpath
+length
+prbool
+havefirst
+prfalse
+startslashpos
+oldpath
+mid
+pathpiece
+startslashpos
+endslashpos
+startslashpos
+pathpiece
+isempty
+havefirst
+pathstring
+sbd
+nsmsghashifnecessary
+pathpiece
+pathstring
+pathpiece
+havefirst
+prtrue
+startslashpos
+endslashpos
+endslashpos
+startslashpos
+oldpath
+findchar
+startslashpos
+oldpath
+length
+endslashpos
+endslashpos
+oldpath
+length
+startslashpos
+endslashpos
+nsok
+prbool
+nsmsgstripre
+stringp
+pruint
+lengthp
+modifiedsubject
+send
+last
+pruint
+prbool
+result
+prfalse
+nsassertion
+stringp
+bad
+param
+stringp
+prfalse
+nsxpidlcstring
+decodedstring
+nscomptr
+nsimimeconverter
+mimeconverter
+nsresult
+rv
+modifiedsubject
+strstr
+stringp
+mimeconverter
+dogetservice
+nsmimeconvertercontractid
+rv
+nssucceeded
+rv
+rv
+mimeconverter
+decodemimeheader
+stringp
+gettercopies
+decodedstring
+decodedstring
+decodedstring
+get
+stringp
+lengthp
+lengthp
+strlen
+send
+last
+again
+send
+isspace
+send
+result
+prtrue
+again
+send
+isdigit
+result
+prtrue
+again
+decodedstring
+decodedstring
+get
+strstr
+stringp
+strchr
+charset
+kmaxcsname
+kmaxcsname
+strncpy
+charset
+rv
+mimeconverter
+encodemimepartiistrutf
+prfalse
+charset
+subject
+kmimeencodedwordsize
+modifiedsubject
+nssucceeded
+rv
+result
+stringp
+lengthp
+lengthp
+stringp
+stringp
+result
+nsmsgsacopy
+destination
+source
+destination
+prfree
+destination
+destination
+source
+destination
+nsnull
+destination
+prmalloc
+plstrlen
+source
+destination
+nsnull
+nsnull
+plstrcpy
+destination
+source
+destination
+nsmsgsacat
+destination
+source
+source
+source
+destination
+length
+plstrlen
+destination
+destination
+prrealloc
+destination
+length
+plstrlen
+source
+destination
+nsnull
+nsnull
+plstrcpy
+destination
+length
+source
+destination
+prmalloc
+plstrlen
+source
+destination
+nsnull
+nsnull
+plstrcpy
+destination
+source
+destination
+nsresult
+nsmsgescapeencodeurlpath
+prunichar
+str
+result
+nsensureargpointer
+str
+nsensureargpointer
+result
+result
+nsescape
+nsconvertucstoutf
+str
+get
+urlpath
+result
+nserroroutofmemory
+nsok
+nsresult
+nsmsgdecodeunescapeurlpath
+path
+prunichar
+result
+nsensureargpointer
+path
+nsensureargpointer
+result
+unescapedname
+nscrt
+strdup
+path
+unescapedname
+nserroroutofmemory
+nsunescape
+unescapedname
+nsautostring
+resultstr
+resultstr
+nsconvertutftoucs
+unescapedname
+result
+tonewunicode
+resultstr
+result
+nserroroutofmemory
+nsok
+prbool
+weareoffline
+nsresult
+rv
+nsok
+prbool
+offline
+prfalse
+nscomptr
+nsiioservice
+ioservice
+dogetservice
+nsioservicecontractid
+rv
+nssucceeded
+rv
+ioservice
+ioservice
+getoffline
+offline
+offline
+nsresult
+getexistingfolder
+afolderuri
+nsimsgfolder
+afolder
+nsensureargpointer
+afolderuri
+nsensureargpointer
+afolder
+afolder
+nsnull
+nsresult
+rv
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+rdf
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+resource
+rv
+rdf
+getresource
+nsdependentcstring
+afolderuri
+getteraddrefs
+resource
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgfolder
+thisfolder
+thisfolder
+doqueryinterface
+resource
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsifolder
+parentfolder
+rv
+thisfolder
+getparent
+getteraddrefs
+parentfolder
+nssucceeded
+rv
+parentfolder
+nsaddref
+afolder
+thisfolder
+rv
+prbool
+isafromspaceline
+start
+end
+nsresult
+rv
+prfalse
+start
+end
+start
+start
+start
+end
+start
+strncmp
+start
+from
+rv
+prtrue
+rv
+nsresult
+escapefromspaceline
+nsifilespec
+pdst
+start
+end
+nsresult
+rv
+pchar
+print
+written
+pchar
+start
+start
+end
+pchar
+end
+pchar
+nscrt
+cr
+pchar
+nscrt
+lf
+pchar
+pchar
+end
+isafromspaceline
+start
+pchar
+rv
+pdst
+write
+written
+rv
+pdst
+write
+start
+pchar
+start
+written
+nsensuresuccess
+rv
+rv
+pchar
+start
+pchar
+start
+end
+isafromspaceline
+start
+end
+rv
+pdst
+write
+written
+rv
+pdst
+write
+start
+end
+start
+written
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+createservicesforpasswordmanager
+ginitpasswordmanager
+ginitpasswordmanager
+prtrue
+nscreateservicesfromcategory
+nspasswordmanagercategory
+nsnull
+nspasswordmanagercategory
+nsok
+nsresult
+isrfcheaderfieldname
+ahdr
+prbool
+aresult
+nsensureargpointer
+ahdr
+nsensureargpointer
+aresult
+pruint
+length
+strlen
+ahdr
+pruint
+length
+ahdr
+aresult
+prfalse
+nsok
+aresult
+prtrue
+nsok
+nsresult
+getorcreatefolder
+nsacstring
+auri
+nsiurllistener
+alistener
+nsresult
+rv
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+rdf
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+resource
+rv
+rdf
+getresource
+auri
+getteraddrefs
+resource
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgfolder
+folderresource
+folderresource
+doqueryinterface
+resource
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+folderresource
+getserver
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+server
+nserrorunexpected
+nscomptr
+nsimsgfolder
+msgfolder
+rv
+server
+getmsgfolderfromuri
+folderresource
+nscautostring
+auri
+get
+getteraddrefs
+msgfolder
+nsensuresuccess
+rv
+rv
+nscomptr
+nsifolder
+parent
+rv
+msgfolder
+getparent
+getteraddrefs
+parent
+nsfailed
+rv
+parent
+nscomptr
+nsifilespec
+folderpath
+msgfolder
+getpath
+getteraddrefs
+folderpath
+nsxpidlcstring
+type
+rv
+server
+gettype
+gettercopies
+type
+nsensuresuccess
+rv
+rv
+prbool
+isimapfolder
+type
+equals
+imap
+prbool
+exists
+prfalse
+isimapfolder
+folderpath
+folderpath
+exists
+exists
+exists
+rv
+msgfolder
+createstorageifmissing
+alistener
+nsensuresuccess
+rv
+rv
+isimapfolder
+alistener
+rv
+alistener
+onstartrunningurl
+nsnull
+nsensuresuccess
+rv
+rv
+rv
+alistener
+onstoprunningurl
+nsnull
+nsok
+nsensuresuccess
+rv
+rv
+alistener
+rv
+alistener
+onstartrunningurl
+nsnull
+nsensuresuccess
+rv
+rv
+rv
+alistener
+onstoprunningurl
+nsnull
+nsok
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+msgcrammd
+text
+print
+textlen
+key
+print
+keylen
+digest
+nsresult
+rv
+result
+digestlength
+presult
+result
+nscomptr
+nsisignatureverifier
+verifier
+dogetservice
+signatureverifiercontractid
+rv
+nsensuresuccess
+rv
+rv
+innerpad
+outerpad
+keylen
+hashcontextstr
+tctx
+pruint
+resultlen
+rv
+verifier
+hashbegin
+nsisignatureverifier
+md
+tctx
+nsensuresuccess
+rv
+rv
+rv
+verifier
+hashupdate
+tctx
+key
+keylen
+nsensuresuccess
+rv
+rv
+rv
+verifier
+hashend
+tctx
+presult
+resultlen
+digestlength
+nsensuresuccess
+rv
+rv
+key
+result
+keylen
+digestlength
+memset
+innerpad
+innerpad
+memset
+outerpad
+outerpad
+memcpy
+innerpad
+key
+keylen
+memcpy
+outerpad
+key
+keylen
+innerpad
+outerpad
+xc
+hashcontextstr
+context
+pruint
+resultlen
+rv
+verifier
+hashbegin
+nsisignatureverifier
+md
+context
+rv
+verifier
+hashupdate
+context
+innerpad
+rv
+verifier
+hashupdate
+context
+text
+textlen
+rv
+verifier
+hashend
+context
+presult
+resultlen
+digestlength
+verifier
+hashbegin
+nsisignatureverifier
+md
+context
+rv
+verifier
+hashupdate
+context
+outerpad
+rv
+verifier
+hashupdate
+context
+result
+rv
+verifier
+hashend
+context
+presult
+resultlen
+digestlength
+memcpy
+digest
+result
+digestlength
+rv
\ No newline at end of file
@@ -0,0 +1,57 @@
+nsnewssummaryspec
+plstr
+nsstring
+mozdeclctorcounter
+nsnewssummaryspec
+nsnewssummaryspec
+nsnewssummaryspec
+mozcountdtor
+nsnewssummaryspec
+nsnewssummaryspec
+nsnewssummaryspec
+mozcountctor
+nsnewssummaryspec
+nsnewssummaryspec
+nsnewssummaryspec
+folderpath
+nsfilespec
+folderpath
+mozcountctor
+nsnewssummaryspec
+createsummaryfilename
+nsnewssummaryspec
+nsnewssummaryspec
+nsfilespec
+infolderpath
+nsfilespec
+infolderpath
+mozcountctor
+nsnewssummaryspec
+createsummaryfilename
+nsnewssummaryspec
+nsnewssummaryspec
+nsfilepath
+infolderpath
+nsfilespec
+infolderpath
+mozcountctor
+nsnewssummaryspec
+createsummaryfilename
+nsnewssummaryspec
+setfoldername
+folderpath
+folderpath
+nsnewssummaryspec
+createsummaryfilename
+leafname
+getleafname
+nscautostring
+fullleafname
+leafname
+fullleafname
+msf
+setleafname
+fullleafname
+get
+plstrfree
+leafname
\ No newline at end of file
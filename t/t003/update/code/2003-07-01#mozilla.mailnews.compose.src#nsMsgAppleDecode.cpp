@@ -0,0 +1,2230 @@
+nscore
+msgcore
+nsmsgappledouble
+nsmsgapplecodes
+nsmsgbinhex
+ifdef
+xpmac
+standardfile
+endif
+mkunabletoopentmpfile
+mkmimeerrorwritingfile
+private
+fromdecoder
+appledoubledecodeobject
+papdecodeobj
+buff
+buffsize
+print
+incount
+private
+from
+appledoubledecodeobject
+papdecodeobj
+buff
+size
+print
+realsize
+private
+fromqp
+appledoubledecodeobject
+papdecodeobj
+buff
+size
+print
+realsize
+private
+fromuu
+appledoubledecodeobject
+papdecodeobj
+buff
+size
+print
+realsize
+private
+fromnone
+appledoubledecodeobject
+papdecodeobj
+buff
+size
+print
+realsize
+private
+decoderseek
+appledoubledecodeobject
+papdecodeobj
+seekpos
+startpos
+fetchaline
+appledoubledecodeobject
+papdecodeobj
+buff
+left
+papdecodeobj
+sleftover
+papdecodeobj
+sinbuff
+papdecodeobj
+posinbuff
+buff
+erreob
+papdecodeobj
+sleftover
+papdecodeobj
+bleftover
+papdecodeobj
+sleftover
+buff
+papdecodeobj
+sleftover
+papdecodeobj
+inbuff
+papdecodeobj
+posinbuff
+left
+papdecodeobj
+sinbuff
+papdecodeobj
+posinbuff
+left
+cr
+lf
+lf
+cr
+buff
+papdecodeobj
+posinbuff
+left
+lf
+cr
+papdecodeobj
+sleftover
+papdecodeobj
+bleftover
+buff
+erreob
+buff
+noerr
+parseparam
+param
+define
+np
+param
+define
+define
+np
+np
+apseekpartstart
+appledoubledecodeobject
+papdecodeobj
+status
+newline
+status
+fetchaline
+papdecodeobj
+newline
+status
+noerr
+newline
+papdecodeobj
+boundary
+errdone
+plstrncasecmp
+newline
+papdecodeobj
+boundary
+nscrt
+strdup
+newline
+errdone
+status
+parsefileheader
+appledoubledecodeobject
+papdecodeobj
+status
+newline
+param
+define
+status
+fetchaline
+papdecodeobj
+newline
+newline
+newline
+parseparam
+param
+define
+plstrncasecmp
+param
+content
+type
+plstrncasecmp
+define
+multipartappledouble
+nscrt
+strlen
+multipartappledouble
+plstrncasecmp
+define
+multipartheaderset
+nscrt
+strlen
+multipartheaderset
+papdecodeobj
+messagetype
+kappledouble
+papdecodeobj
+messagetype
+kgeneralmine
+plstrncasecmp
+param
+boundary
+define
+define
+papdecodeobj
+boundary
+define
+papdecodeobj
+boundary
+plstrncasecmp
+param
+content
+disposition
+plstrncasecmp
+define
+papdecodeobj
+deposition
+kinline
+papdecodeobj
+deposition
+kdontcare
+plstrncasecmp
+param
+filename
+define
+papdecodeobj
+fname
+papdecodeobj
+fname
+noerr
+apseektoboundary
+appledoubledecodeobject
+papdecodeobj
+prbool
+firstime
+status
+noerr
+buff
+status
+noerr
+status
+fetchaline
+papdecodeobj
+buff
+status
+noerr
+plstrncasecmp
+buff
+plstrncasecmp
+buff
+papdecodeobj
+boundary
+nscrt
+strlen
+papdecodeobj
+boundary
+plstrncasecmp
+buff
+papdecodeobj
+boundary
+nscrt
+strlen
+papdecodeobj
+boundary
+tracemsg
+found
+boundary
+papdecodeobj
+boundary
+status
+errdone
+firstime
+status
+erreob
+status
+noerr
+status
+apparseheader
+appledoubledecodeobject
+papdecodeobj
+prbool
+firstime
+status
+newline
+param
+define
+firstime
+papdecodeobj
+encoding
+kencodenone
+papdecodeobj
+whichpart
+kfinishing
+status
+fetchaline
+papdecodeobj
+newline
+status
+noerr
+status
+newline
+newline
+parseparam
+param
+define
+plstrncasecmp
+param
+content
+type
+plstrncasecmp
+define
+application
+applefile
+papdecodeobj
+whichpart
+kheaderportion
+papdecodeobj
+whichpart
+kdataportion
+plstrncasecmp
+define
+text
+plain
+papdecodeobj
+isbinary
+false
+papdecodeobj
+isbinary
+true
+plstrncasecmp
+define
+uuencode
+apple
+single
+papdecodeobj
+encoding
+kencodeuu
+plstrncasecmp
+param
+content
+transfer
+encoding
+plstrncasecmp
+define
+base
+papdecodeobj
+encoding
+kencodebase
+plstrncasecmp
+define
+quoted
+printable
+papdecodeobj
+encoding
+kencodeqp
+papdecodeobj
+encoding
+kencodenone
+plstrncasecmp
+param
+content
+disposition
+plstrncasecmp
+define
+papdecodeobj
+deposition
+kinline
+papdecodeobj
+deposition
+kdontcare
+plstrncasecmp
+param
+filename
+papdecodeobj
+fname
+define
+define
+papdecodeobj
+fname
+define
+papdecodeobj
+fname
+errdone
+apdecodefileinfor
+appledoubledecodeobject
+papdecodeobj
+apheader
+head
+apentry
+entries
+numentries
+stpt
+print
+incount
+status
+name
+prbool
+positionedatrfork
+false
+stpt
+papdecodeobj
+posinbuff
+status
+fromdecoder
+papdecodeobj
+head
+incount
+status
+noerr
+status
+papdecodeobj
+isapplesingle
+ntohl
+head
+magic
+applesinglemagic
+errversion
+ntohl
+head
+magic
+appledoublemagic
+errversion
+ntohl
+head
+version
+version
+errversion
+head
+entries
+ntohs
+head
+entries
+head
+entries
+status
+fromdecoder
+papdecodeobj
+entries
+apentry
+incount
+status
+noerr
+errdecoding
+entries
+id
+ntohl
+entries
+id
+entries
+offset
+ntohl
+entries
+offset
+entries
+length
+ntohl
+entries
+length
+numentries
+entries
+id
+entname
+entfinfo
+entdates
+entcomment
+entrfork
+entdfork
+incount
+nscrt
+strlen
+papdecodeobj
+fname
+incount
+entries
+id
+entname
+errdecoding
+status
+decoderseek
+papdecodeobj
+entries
+offset
+stpt
+status
+noerr
+status
+entries
+length
+entries
+length
+status
+fromdecoder
+papdecodeobj
+papdecodeobj
+fname
+entries
+length
+incount
+status
+noerr
+status
+papdecodeobj
+fname
+incount
+plstrcpy
+name
+papdecodeobj
+fname
+name
+incount
+papdecodeobj
+writeasbinhex
+binhexheader
+head
+myfinfo
+myfinfo
+status
+papdecodeobj
+binhexstream
+putblock
+papdecodeobj
+binhexstream
+dataobject
+name
+name
+status
+noerr
+status
+entries
+id
+entfinfo
+status
+decoderseek
+papdecodeobj
+entries
+offset
+stpt
+status
+noerr
+status
+status
+fromdecoder
+papdecodeobj
+myfinfo
+myfinfo
+incount
+status
+noerr
+status
+head
+type
+myfinfo
+fdtype
+head
+creator
+myfinfo
+fdcreator
+head
+flags
+myfinfo
+fdflags
+entries
+id
+entdfork
+entries
+length
+head
+dlen
+entries
+length
+head
+dlen
+entries
+id
+entrfork
+entries
+length
+head
+rlen
+entries
+length
+head
+rlen
+head
+dlen
+htonl
+head
+dlen
+head
+rlen
+htonl
+head
+rlen
+status
+papdecodeobj
+binhexstream
+putblock
+papdecodeobj
+binhexstream
+dataobject
+head
+binhexheader
+status
+noerr
+status
+status
+papdecodeobj
+binhexstream
+putblock
+papdecodeobj
+binhexstream
+dataobject
+ifdef
+xpmac
+apdates
+dates
+hfileinfo
+fpb
+cinfopbrec
+cipbr
+ioparam
+vinfo
+getvolparmsinfobuffer
+vp
+dtpbrec
+dtp
+comment
+filename
+standardfilereply
+reply
+plstrcpy
+filename
+papdecodeobj
+fname
+filename
+nscrt
+strlen
+papdecodeobj
+fname
+papdecodeobj
+mspec
+standardputfile
+psave
+decoded
+file
+as
+filename
+reply
+reply
+sfgood
+errusrcancel
+reply
+sffile
+vrefnum
+papdecodeobj
+mspec
+vrefnum
+reply
+sffile
+parid
+papdecodeobj
+mspec
+parid
+memcpy
+reply
+sffile
+name
+papdecodeobj
+mspec
+name
+memcpy
+papdecodeobj
+fname
+reply
+sffile
+name
+reply
+sffile
+name
+papdecodeobj
+fname
+reply
+sffile
+name
+papdecodeobj
+vrefnum
+reply
+sffile
+vrefnum
+papdecodeobj
+dirid
+reply
+sffile
+parid
+hdelete
+reply
+sffile
+vrefnum
+reply
+sffile
+parid
+reply
+sffile
+name
+define
+dontcaretype
+xffff
+hcreate
+reply
+sffile
+vrefnum
+reply
+sffile
+parid
+reply
+sffile
+name
+dontcaretype
+dontcaretype
+noerr
+errfileopen
+fpb
+hfileinfo
+cipbr
+fpb
+iovrefnum
+reply
+sffile
+vrefnum
+fpb
+iodirid
+reply
+sffile
+parid
+fpb
+ionameptr
+reply
+sffile
+name
+fpb
+iofdirindex
+pbgetcatinfosync
+cipbr
+entries
+id
+entfinfo
+status
+decoderseek
+papdecodeobj
+entries
+offset
+stpt
+status
+noerr
+status
+status
+fromdecoder
+papdecodeobj
+fpb
+ioflfndrinfo
+finfo
+incount
+status
+noerr
+status
+status
+fromdecoder
+papdecodeobj
+fpb
+ioflxfndrinfo
+fxinfo
+incount
+status
+noerr
+status
+erreop
+status
+fpb
+ioflfndrinfo
+fdflags
+xfc
+entries
+id
+entdates
+status
+decoderseek
+papdecodeobj
+entries
+offset
+stpt
+status
+noerr
+status
+erreop
+status
+status
+fromdecoder
+papdecodeobj
+dates
+dates
+incount
+status
+noerr
+status
+fpb
+ioflcrdat
+dates
+create
+converttime
+fpb
+ioflmddat
+dates
+modify
+converttime
+fpb
+ioflbkdat
+dates
+backup
+converttime
+fpb
+iodirid
+fpb
+ioflparid
+pbsetcatinfosync
+cipbr
+entries
+id
+entcomment
+entries
+length
+memset
+vinfo
+vinfo
+vinfo
+iovrefnum
+fpb
+iovrefnum
+vinfo
+iobuffer
+ptr
+vp
+vinfo
+ioreqcount
+vp
+pbhgetvolparmssync
+hparmblkptr
+vinfo
+noerr
+vp
+vmattrib
+bhasdesktopmgr
+memset
+dtp
+dtp
+dtp
+iovrefnum
+fpb
+iovrefnum
+pbdtgetpath
+dtp
+noerr
+entries
+length
+entries
+length
+status
+decoderseek
+papdecodeobj
+entries
+offset
+stpt
+status
+noerr
+status
+status
+fromdecoder
+papdecodeobj
+comment
+entries
+length
+incount
+status
+noerr
+status
+dtp
+iodtbuffer
+ptr
+comment
+dtp
+ionameptr
+fpb
+ionameptr
+dtp
+iodirid
+fpb
+iodirid
+dtp
+iodtreqcount
+entries
+length
+pbdtsetcommentsync
+dtp
+noerr
+pbdtflushsync
+dtp
+endif
+entries
+id
+entrfork
+entries
+length
+ifdef
+xpmac
+status
+decoderseek
+papdecodeobj
+entries
+offset
+stpt
+positionedatrfork
+true
+endif
+papdecodeobj
+rksize
+entries
+length
+papdecodeobj
+rksize
+entries
+id
+entdfork
+entries
+length
+papdecodeobj
+isapplesingle
+positionedatrfork
+status
+decoderseek
+papdecodeobj
+entries
+offset
+stpt
+papdecodeobj
+dksize
+entries
+length
+papdecodeobj
+dksize
+papdecodeobj
+writeasbinhex
+papdecodeobj
+rksize
+papdecodeobj
+tmpfilespec
+nsmsgcreatetempfilespec
+apmail
+papdecodeobj
+tmpfilespec
+errfileopen
+papdecodeobj
+tmpfilestream
+nsiofilestream
+papdecodeobj
+tmpfilespec
+papdecodeobj
+tmpfilestream
+papdecodeobj
+tmpfilestream
+isopen
+papdecodeobj
+tmpfilespec
+errfileopen
+noerr
+apdecodeprocessheader
+appledoubledecodeobject
+papdecodeobj
+prbool
+firstime
+print
+incount
+status
+noerr
+wrbuff
+firstime
+status
+apdecodefileinfor
+papdecodeobj
+status
+noerr
+status
+papdecodeobj
+rksize
+ifdef
+xpmac
+papdecodeobj
+writeasbinhex
+str
+fname
+refnum
+fname
+nscrt
+strlen
+papdecodeobj
+fname
+plstrcpy
+fname
+papdecodeobj
+fname
+hopenrf
+papdecodeobj
+vrefnum
+papdecodeobj
+dirid
+fname
+fswrperm
+refnum
+noerr
+errfileopen
+papdecodeobj
+fileid
+refnum
+endif
+status
+errdone
+status
+noerr
+papdecodeobj
+rksize
+incount
+prmin
+papdecodeobj
+rksize
+status
+fromdecoder
+papdecodeobj
+wrbuff
+incount
+incount
+papdecodeobj
+writeasbinhex
+papdecodeobj
+tmpfilestream
+write
+wrbuff
+incount
+incount
+status
+errfilewrite
+papdecodeobj
+datasize
+incount
+ifdef
+xpmac
+howmuch
+incount
+fswrite
+papdecodeobj
+fileid
+howmuch
+wrbuff
+noerr
+status
+errfilewrite
+endif
+papdecodeobj
+rksize
+incount
+papdecodeobj
+rksize
+status
+erreop
+papdecodeobj
+writeasbinhex
+papdecodeobj
+tmpfilestream
+papdecodeobj
+tmpfilestream
+seek
+prseekset
+ifdef
+xpmac
+papdecodeobj
+fileid
+fsclose
+papdecodeobj
+fileid
+papdecodeobj
+fileid
+endif
+papdecodeobj
+isapplesingle
+papdecodeobj
+left
+papdecodeobj
+state
+status
+errdone
+status
+apdecodeprocessdata
+appledoubledecodeobject
+papdecodeobj
+prbool
+firstime
+wrbuff
+print
+incount
+status
+noerr
+retval
+noerr
+firstime
+papdecodeobj
+writeasbinhex
+ifdef
+xpmac
+filename
+fsspec
+fspec
+fspec
+vrefnum
+papdecodeobj
+vrefnum
+fspec
+parid
+papdecodeobj
+dirid
+fspec
+name
+nscrt
+strlen
+papdecodeobj
+fname
+plstrcpy
+fspec
+name
+papdecodeobj
+fname
+nsfilespec
+tfilespec
+fspec
+prtrue
+papdecodeobj
+isbinary
+papdecodeobj
+filestream
+nsiofilestream
+tfilespec
+prrdwr
+prcreatefile
+prtruncate
+papdecodeobj
+filestream
+nsiofilestream
+tfilespec
+prrdwr
+prcreatefile
+prtruncate
+prfreeif
+filename
+nsfilespec
+tfilespec
+papdecodeobj
+fname
+papdecodeobj
+isbinary
+papdecodeobj
+filestream
+nsiofilestream
+tfilespec
+prrdwr
+prcreatefile
+prtruncate
+papdecodeobj
+filestream
+nsiofilestream
+tfilespec
+prrdwr
+prcreatefile
+prtruncate
+endif
+papdecodeobj
+isapplesingle
+papdecodeobj
+dksize
+status
+errdone
+status
+noerr
+retval
+noerr
+retval
+fromdecoder
+papdecodeobj
+wrbuff
+incount
+papdecodeobj
+isapplesingle
+papdecodeobj
+dksize
+incount
+papdecodeobj
+writeasbinhex
+status
+papdecodeobj
+binhexstream
+putblock
+papdecodeobj
+binhexstream
+dataobject
+wrbuff
+incount
+status
+papdecodeobj
+filestream
+wrbuff
+incount
+incount
+noerr
+errfilewrite
+retval
+erreop
+papdecodeobj
+isapplesingle
+papdecodeobj
+dksize
+status
+errdone
+status
+errdone
+papdecodeobj
+writeasbinhex
+status
+papdecodeobj
+binhexstream
+putblock
+papdecodeobj
+binhexstream
+dataobject
+status
+noerr
+status
+papdecodeobj
+filestream
+papdecodeobj
+filestream
+close
+papdecodeobj
+filestream
+status
+errdone
+status
+private
+fromdecoder
+appledoubledecodeobject
+papdecodeobj
+buff
+buffsize
+print
+incount
+status
+papdecodeobj
+encoding
+kencodeqp
+status
+fromqp
+papdecodeobj
+buff
+buffsize
+incount
+kencodebase
+status
+from
+papdecodeobj
+buff
+buffsize
+incount
+kencodeuu
+status
+fromuu
+papdecodeobj
+buff
+buffsize
+incount
+kencodenone
+status
+fromnone
+papdecodeobj
+buff
+buffsize
+incount
+status
+private
+decoderseek
+appledoubledecodeobject
+papdecodeobj
+seekpos
+startpos
+tmp
+status
+noerr
+print
+incount
+papdecodeobj
+state
+papdecodeobj
+left
+papdecodeobj
+posinbuff
+startpos
+papdecodeobj
+uustartsline
+true
+papdecodeobj
+uubyteswritten
+papdecodeobj
+uulinebytes
+papdecodeobj
+uustate
+kwaitingforbegin
+seekpos
+status
+fromdecoder
+papdecodeobj
+tmp
+prmin
+seekpos
+incount
+status
+noerr
+seekpos
+incount
+status
+define
+xx
+index
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+define
+char
+index
+define
+endofbuff
+posinbuff
+sinbuff
+private
+fetchnextchar
+appledoubledecodeobject
+papdecodeobj
+papdecodeobj
+inbuff
+papdecodeobj
+posinbuff
+papdecodeobj
+posinbuff
+lf
+cr
+endofbuff
+papdecodeobj
+papdecodeobj
+inbuff
+papdecodeobj
+posinbuff
+papdecodeobj
+posinbuff
+private
+from
+appledoubledecodeobject
+papdecodeobj
+buff
+size
+print
+realsize
+buf
+realsize
+papdecodeobj
+state
+endofbuff
+papdecodeobj
+papdecodeobj
+state
+papdecodeobj
+fetchnextchar
+papdecodeobj
+erreob
+size
+papdecodeobj
+papdecodeobj
+papdecodeobj
+papdecodeobj
+erreop
+errdecoding
+char
+char
+buf
+char
+buf
+xf
+xc
+char
+buf
+papdecodeobj
+left
+buff
+buf
+realsize
+buff
+buf
+realsize
+endofbuff
+papdecodeobj
+erreop
+noerr
+buff
+buf
+realsize
+endofbuff
+papdecodeobj
+erreop
+noerr
+papdecodeobj
+left
+buff
+buf
+realsize
+size
+papdecodeobj
+left
+size
+papdecodeobj
+state
+papdecodeobj
+state
+endofbuff
+papdecodeobj
+papdecodeobj
+fetchnextchar
+papdecodeobj
+papdecodeobj
+state
+endofbuff
+papdecodeobj
+erreob
+noerr
+indexhex
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+xx
+define
+hexchar
+indexhex
+define
+nextchar
+inbuff
+posinbuff
+define
+currentchar
+inbuff
+posinbuff
+private
+fromqp
+appledoubledecodeobject
+papdecodeobj
+buff
+size
+print
+realsize
+realsize
+papdecodeobj
+papdecodeobj
+papdecodeobj
+papdecodeobj
+nextchar
+papdecodeobj
+nextchar
+papdecodeobj
+nextchar
+papdecodeobj
+hexchar
+hexchar
+size
+buff
+realsize
+size
+endofbuff
+papdecodeobj
+nextchar
+papdecodeobj
+endofbuff
+papdecodeobj
+papdecodeobj
+nextchar
+papdecodeobj
+hexchar
+endofbuff
+papdecodeobj
+papdecodeobj
+papdecodeobj
+nextchar
+papdecodeobj
+hexchar
+size
+buff
+realsize
+cr
+lf
+papdecodeobj
+posinbuff
+papdecodeobj
+sinbuff
+papdecodeobj
+boundary
+plstrncasecmp
+papdecodeobj
+posinbuff
+papdecodeobj
+inbuff
+plstrncasecmp
+papdecodeobj
+posinbuff
+papdecodeobj
+inbuff
+papdecodeobj
+boundary
+nscrt
+strlen
+papdecodeobj
+boundary
+erreop
+size
+buff
+realsize
+endofbuff
+papdecodeobj
+erreob
+noerr
+define
+uueol
+cr
+lf
+undef
+uudec
+define
+uudec
+private
+ensureuubodystate
+appledoubledecodeobject
+end
+inbuff
+sinbuff
+current
+inbuff
+posinbuff
+uustate
+kmainbody
+uustartsline
+plstrncasecmp
+current
+end
+prmin
+end
+current
+uustate
+kend
+uustate
+kmainbody
+current
+end
+uustate
+kwaitingforbegin
+kbegin
+uustartsline
+current
+end
+uueol
+current
+current
+current
+end
+uueol
+current
+current
+uustartsline
+true
+uustate
+kbegin
+uustate
+kmainbody
+uustate
+kwaitingforbegin
+plstrncasecmp
+current
+begin
+prmin
+end
+current
+uustate
+kbegin
+uustartsline
+false
+kend
+current
+end
+posinbuff
+sinbuff
+end
+current
+define
+uuvoidchar
+private
+fetchnextcharuu
+appledoubledecodeobject
+prbool
+newbunch
+prbool
+gotchar
+false
+endofbuff
+gotchar
+endofbuff
+gotchar
+true
+uustartsline
+end
+inbuff
+sinbuff
+current
+inbuff
+posinbuff
+plstrncasecmp
+current
+end
+prmin
+end
+current
+uustate
+kend
+posinbuff
+sinbuff
+gotchar
+true
+gotchar
+nextchar
+cr
+lf
+newbunch
+endofbuff
+currentchar
+cr
+currentchar
+lf
+uustartsline
+true
+posinbuff
+uuvoidchar
+gotchar
+true
+uustartsline
+uulinebytes
+uudec
+uustartsline
+false
+uulinebytes
+gotchar
+true
+private
+fromuu
+appledoubledecodeobject
+papdecodeobj
+buff
+size
+print
+realsize
+returnval
+noerr
+realsize
+ensureuubodystate
+papdecodeobj
+papdecodeobj
+uustate
+kend
+erreop
+papdecodeobj
+state
+endofbuff
+papdecodeobj
+papdecodeobj
+state
+papdecodeobj
+fetchnextcharuu
+papdecodeobj
+papdecodeobj
+uulinebytes
+endofbuff
+papdecodeobj
+erreob
+size
+endofbuff
+papdecodeobj
+papdecodeobj
+papdecodeobj
+papdecodeobj
+papdecodeobj
+papdecodeobj
+uubyteswritten
+papdecodeobj
+uulinebytes
+uudec
+uudec
+size
+buff
+realsize
+papdecodeobj
+uulinebytes
+papdecodeobj
+uubyteswritten
+size
+papdecodeobj
+uubyteswritten
+papdecodeobj
+uulinebytes
+uudec
+uudec
+size
+buff
+realsize
+papdecodeobj
+uulinebytes
+papdecodeobj
+uubyteswritten
+size
+papdecodeobj
+uulinebytes
+uudec
+uudec
+size
+buff
+realsize
+papdecodeobj
+uulinebytes
+papdecodeobj
+uubyteswritten
+papdecodeobj
+uustate
+kend
+papdecodeobj
+uulinebytes
+papdecodeobj
+uubyteswritten
+papdecodeobj
+uubyteswritten
+papdecodeobj
+state
+endofbuff
+papdecodeobj
+papdecodeobj
+fetchnextcharuu
+papdecodeobj
+papdecodeobj
+state
+papdecodeobj
+uulinebytes
+endofbuff
+papdecodeobj
+papdecodeobj
+uustate
+kend
+returnval
+erreop
+endofbuff
+papdecodeobj
+returnval
+erreob
+returnval
+private
+fromnone
+appledoubledecodeobject
+papdecodeobj
+buff
+size
+print
+realsize
+status
+noerr
+left
+papdecodeobj
+sinbuff
+papdecodeobj
+posinbuff
+total
+prmin
+size
+left
+total
+buff
+nextchar
+papdecodeobj
+cr
+lf
+papdecodeobj
+posinbuff
+papdecodeobj
+sinbuff
+papdecodeobj
+boundary
+plstrncasecmp
+papdecodeobj
+posinbuff
+papdecodeobj
+inbuff
+plstrncasecmp
+papdecodeobj
+posinbuff
+papdecodeobj
+inbuff
+papdecodeobj
+boundary
+nscrt
+strlen
+papdecodeobj
+boundary
+status
+erreop
+realsize
+status
+noerr
+status
+left
+erreob
+status
+status
\ No newline at end of file
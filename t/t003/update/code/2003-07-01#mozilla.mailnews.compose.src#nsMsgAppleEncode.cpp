@@ -0,0 +1,846 @@
+nscore
+msgcore
+nsmimetypes
+prprf
+nsmsgappledouble
+nsmsgapplecodes
+defined
+xpmac
+defined
+xpmacosx
+errors
+outputchunk
+appledoubleencodeobject
+papencodeobj
+pads
+to
+appledoubleencodeobject
+papencodeobj
+insize
+finish
+appledoubleencodeobject
+papencodeobj
+define
+buffleft
+soutbuff
+posoutbuff
+writestream
+appledoubleencodeobject
+papencodeobj
+outstring
+len
+papencodeobj
+posoutbuff
+len
+papencodeobj
+soutbuff
+memcpy
+papencodeobj
+outbuff
+papencodeobj
+posoutbuff
+outstring
+len
+papencodeobj
+posoutbuff
+len
+noerr
+slen
+papencodeobj
+soutbuff
+papencodeobj
+posoutbuff
+memcpy
+papencodeobj
+outbuff
+papencodeobj
+posoutbuff
+outstring
+slen
+memcpy
+papencodeobj
+boverflow
+papencodeobj
+soverflow
+outstring
+slen
+papencodeobj
+soverflow
+len
+slen
+papencodeobj
+posoutbuff
+slen
+erreob
+fillapplemimeheader
+appledoubleencodeobject
+papencodeobj
+status
+tmpstr
+prsnprintf
+tmpstr
+tmpstr
+content
+type
+multipart
+appledouble
+boundary
+name
+status
+writestream
+papencodeobj
+tmpstr
+strlen
+tmpstr
+status
+noerr
+status
+status
+writestream
+papencodeobj
+papencodeobj
+fname
+nscrt
+strlen
+papencodeobj
+fname
+status
+noerr
+status
+prsnprintf
+tmpstr
+tmpstr
+ncontent
+disposition
+filename
+papencodeobj
+fname
+endif
+prsnprintf
+tmpstr
+tmpstr
+crlf
+papencodeobj
+boundary
+status
+writestream
+papencodeobj
+tmpstr
+strlen
+tmpstr
+status
+apencodefileinfor
+appledoubleencodeobject
+papencodeobj
+cinfopbrec
+cipbr
+hfileinfo
+fpb
+hfileinfo
+cipbr
+apheader
+head
+apentry
+entries
+numentries
+apdates
+dates
+comlen
+datetimerec
+curtime
+cursecs
+comment
+str
+fname
+status
+strcpy
+fname
+papencodeobj
+fname
+fname
+strlen
+papencodeobj
+fname
+fpb
+ionameptr
+fname
+fpb
+iodirid
+papencodeobj
+dirid
+fpb
+iovrefnum
+papencodeobj
+vrefnum
+fpb
+iofdirindex
+pbgetcatinfosync
+cipbr
+noerr
+errfileopen
+targetcarbon
+comlen
+procid
+procid
+getwdinfo
+papencodeobj
+vrefnum
+fpb
+iovrefnum
+fpb
+iodirid
+procid
+ioparam
+vinfo
+memset
+vinfo
+vinfo
+getvolparmsinfobuffer
+vp
+vinfo
+iocompletion
+nil
+vinfo
+iovrefnum
+fpb
+iovrefnum
+vinfo
+iobuffer
+ptr
+vp
+vinfo
+ioreqcount
+vp
+comlen
+pbhgetvolparmssync
+hparmblkptr
+vinfo
+noerr
+vp
+vmattrib
+bhasdesktopmgr
+dtpbrec
+dtp
+memset
+dtp
+dtp
+dtp
+iovrefnum
+fpb
+iovrefnum
+pbdtgetpath
+dtp
+noerr
+dtp
+iocompletion
+nil
+dtp
+iodtbuffer
+ptr
+comment
+dtp
+ionameptr
+fpb
+ionameptr
+dtp
+iodirid
+fpb
+ioflparid
+pbdtgetcommentsync
+dtp
+noerr
+comlen
+dtp
+iodtactcount
+endif
+head
+magic
+appledoublemagic
+head
+version
+version
+memset
+head
+fill
+head
+fill
+head
+entries
+numentries
+status
+to
+papencodeobj
+head
+head
+status
+noerr
+status
+entries
+offset
+head
+apentry
+head
+entries
+entries
+id
+entname
+entries
+length
+fpb
+ionameptr
+entries
+id
+entfinfo
+entries
+length
+finfo
+fxinfo
+entries
+id
+entdates
+entries
+length
+apdates
+entries
+id
+entcomment
+entries
+length
+comlen
+entries
+id
+entrfork
+entries
+length
+fpb
+ioflrlglen
+entries
+id
+entdfork
+entries
+length
+fpb
+iofllglen
+numentries
+entries
+offset
+entries
+offset
+entries
+length
+status
+to
+papencodeobj
+entries
+apentry
+head
+entries
+status
+noerr
+status
+status
+to
+papencodeobj
+fpb
+ionameptr
+fpb
+ionameptr
+status
+noerr
+status
+status
+to
+papencodeobj
+fpb
+ioflfndrinfo
+finfo
+status
+noerr
+status
+status
+to
+papencodeobj
+fpb
+ioflxfndrinfo
+fxinfo
+status
+noerr
+status
+gettime
+curtime
+datetoseconds
+curtime
+cursecs
+dates
+create
+fpb
+ioflcrdat
+converttime
+dates
+modify
+fpb
+ioflmddat
+converttime
+dates
+backup
+fpb
+ioflbkdat
+converttime
+dates
+access
+cursecs
+converttime
+status
+to
+papencodeobj
+dates
+apdates
+status
+noerr
+status
+comlen
+status
+to
+papencodeobj
+comment
+comlen
+fpb
+ioflfndrinfo
+fdtype
+text
+fpb
+ioflfndrinfo
+fdtype
+text
+papencodeobj
+textfiletype
+status
+apencodeheader
+appledoubleencodeobject
+papencodeobj
+prbool
+firstime
+str
+name
+rdbuff
+fileid
+oserr
+retval
+noerr
+status
+incount
+firstime
+plstrcpy
+rdbuff
+content
+type
+application
+applefile
+ncontent
+transfer
+encoding
+base
+status
+writestream
+papencodeobj
+rdbuff
+strlen
+rdbuff
+status
+noerr
+status
+status
+apencodefileinfor
+papencodeobj
+status
+noerr
+status
+name
+strlen
+papencodeobj
+fname
+strcpy
+name
+papencodeobj
+fname
+hopenrf
+papencodeobj
+vrefnum
+papencodeobj
+dirid
+name
+fsrdperm
+papencodeobj
+fileid
+noerr
+errfileopen
+fileid
+papencodeobj
+fileid
+retval
+noerr
+buffleft
+papencodeobj
+incount
+retval
+fsread
+fileid
+incount
+rdbuff
+incount
+status
+to
+papencodeobj
+rdbuff
+incount
+status
+noerr
+status
+retval
+eoferr
+fsclose
+fileid
+status
+finish
+papencodeobj
+status
+noerr
+status
+prsnprintf
+rdbuff
+rdbuff
+crlf
+crlf
+papencodeobj
+boundary
+status
+writestream
+papencodeobj
+rdbuff
+strlen
+rdbuff
+status
+noerr
+status
+errdone
+status
+replace
+len
+frm
+to
+len
+len
+frm
+to
+magic
+name
+num
+len
+magic
+magic
+image
+gif
+gif
+image
+jpeg
+video
+mpeg
+application
+postscript
+nummagic
+magic
+magic
+texttype
+textplain
+defaulttype
+applicationoctetstream
+magiclook
+inbuff
+numread
+nummagic
+magic
+len
+magic
+len
+strlen
+magic
+num
+nummagic
+numread
+magic
+len
+magic
+len
+inbuff
+magic
+num
+magic
+len
+magic
+name
+defaulttype
+apencodedata
+appledoubleencodeobject
+papencodeobj
+prbool
+firstime
+str
+name
+rdbuff
+fileid
+oserr
+retval
+noerr
+incount
+status
+firstime
+magictype
+name
+strlen
+papencodeobj
+fname
+plstrcpy
+name
+papencodeobj
+fname
+hopen
+papencodeobj
+vrefnum
+papencodeobj
+dirid
+name
+fsrdperm
+fileid
+noerr
+errfileopen
+papencodeobj
+fileid
+fileid
+papencodeobj
+textfiletype
+incount
+retval
+fsread
+fileid
+incount
+rdbuff
+magictype
+magiclook
+rdbuff
+incount
+setfpos
+fileid
+fsfromstart
+retval
+eoferr
+retval
+noerr
+magictype
+texttype
+prsnprintf
+rdbuff
+rdbuff
+content
+type
+name
+crlf
+content
+transfer
+encoding
+base
+crlf
+content
+disposition
+filename
+crlf
+crlf
+magictype
+papencodeobj
+fname
+papencodeobj
+fname
+status
+writestream
+papencodeobj
+rdbuff
+strlen
+rdbuff
+status
+noerr
+status
+retval
+noerr
+buffleft
+papencodeobj
+incount
+retval
+fsread
+papencodeobj
+fileid
+incount
+rdbuff
+incount
+status
+to
+papencodeobj
+rdbuff
+incount
+status
+noerr
+status
+retval
+eoferr
+fsclose
+papencodeobj
+fileid
+status
+finish
+papencodeobj
+status
+noerr
+status
+prsnprintf
+rdbuff
+rdbuff
+crlf
+crlf
+crlf
+papencodeobj
+boundary
+status
+writestream
+papencodeobj
+rdbuff
+strlen
+rdbuff
+status
+noerr
+status
+errdone
+status
+basis
+abcdefghijklmnopqrstuvwxyzabcdefghijklmnopqrstuvwxyz
+to
+appledoubleencodeobject
+papencodeobj
+insize
+status
+ct
+inbuff
+ct
+papencodeobj
+ct
+papencodeobj
+state
+papencodeobj
+inbuff
+insize
+papencodeobj
+state
+noerr
+papencodeobj
+inbuff
+insize
+papencodeobj
+state
+noerr
+inbuff
+insize
+papencodeobj
+papencodeobj
+inbuff
+insize
+papencodeobj
+state
+noerr
+inbuff
+insize
+papencodeobj
+papencodeobj
+inbuff
+insize
+insize
+status
+outputchunk
+papencodeobj
+status
+noerr
+status
+ct
+ct
+status
+writestream
+papencodeobj
+crlf
+status
+noerr
+status
+ct
+insize
+papencodeobj
+state
+inbuff
+insize
+papencodeobj
+papencodeobj
+state
+inbuff
+insize
+papencodeobj
+papencodeobj
+papencodeobj
+state
+inbuff
+insize
+papencodeobj
+ct
+ct
+status
+finish
+appledoubleencodeobject
+papencodeobj
+status
+papencodeobj
+state
+status
+outputchunk
+papencodeobj
+papencodeobj
+status
+outputchunk
+papencodeobj
+papencodeobj
+papencodeobj
+status
+writestream
+papencodeobj
+crlf
+papencodeobj
+state
+papencodeobj
+ct
+status
+outputchunk
+appledoubleencodeobject
+papencodeobj
+pads
+tmpstr
+tmpstr
+basis
+basis
+xf
+pads
+pads
+basis
+xf
+xc
+basis
+xf
+xc
+basis
+xf
+writestream
+papencodeobj
+tmpstr
+tmpstr
+endif
\ No newline at end of file
@@ -0,0 +1,1797 @@
+nsmsgattachmenthandler
+nsmsgcopy
+nsipref
+nsmsgsend
+nsmsgcomputils
+nsipref
+nsmsgencoders
+nsmsgin
+nsurlfetcher
+nsmimetypes
+nsimsgstringservice
+nsmsgcomposestringbundle
+nsmsgcompcid
+nsxpidlstring
+nsreadableutils
+nsimsgmessageservice
+nsmsgutils
+nsmsgprompts
+nstextformatter
+nsiprompt
+nsmsgsimulateerror
+nsitexttosuburi
+nsescape
+nsiurl
+nsnetcid
+nsistreamconverterservice
+nsimimestreamconverter
+nsmsgmimecid
+nsnetutil
+nsdefinecid
+kprefcid
+nsprefcid
+defined
+xpmac
+defined
+xpmacosx
+define
+adworkingbuffsize
+macgetfiletype
+nsfilespec
+fs
+prbool
+usedefault
+type
+encoding
+nsiinternetconfigservice
+defined
+xpmac
+morefilesextras
+morefilesx
+endif
+endif
+nsmsgattachmenthandler
+nsmsgattachmenthandler
+defined
+debugducarroz
+printf
+create
+nsmsgattachmenthandler
+endif
+mmhtmlpart
+prfalse
+mpartuseromissionoverride
+prfalse
+mmainbody
+prfalse
+mcharset
+nsnull
+moverridetype
+nsnull
+moverrideencoding
+nsnull
+mdesiredtype
+nsnull
+mdescription
+nsnull
+mencoding
+nsnull
+mrealname
+nsnull
+mencoding
+nsnull
+mcontentid
+nsnull
+malreadyencodedp
+prfalse
+mdecryptedp
+prfalse
+mfileanalyzed
+prfalse
+mctlcount
+mnullcount
+mcurrentcolumn
+mmaxcolumn
+mlines
+munprintablecount
+mhighbitcount
+mencoderdata
+nsnull
+mdone
+prfalse
+mtype
+nsnull
+mtypeparam
+nsnull
+msize
+mcompfields
+nsnull
+mfilespec
+nsnull
+murl
+nsnull
+mrequest
+nsnull
+mxmactype
+nsnull
+mxmaccreator
+nsnull
+defined
+xpmac
+defined
+xpmacosx
+mapplefilespec
+nsnull
+endif
+mdeletefile
+prfalse
+muri
+nsnull
+nsmsgattachmenthandler
+nsmsgattachmenthandler
+defined
+debugducarroz
+printf
+dispose
+nsmsgattachmenthandler
+endif
+defined
+xpmac
+defined
+xpmacosx
+mapplefilespec
+mapplefilespec
+endif
+mfilespec
+mdeletefile
+mfilespec
+delete
+prfalse
+mfilespec
+mfilespec
+nsnull
+prfree
+mcharset
+prfree
+mtype
+prfree
+mtypeparam
+prfree
+mcontentid
+prfree
+mdesiredtype
+prfree
+mencoding
+prfree
+moverridetype
+prfree
+mdescription
+prfree
+mrealname
+prfree
+moverrideencoding
+prfree
+mxmactype
+prfree
+mxmaccreator
+prfree
+muri
+nsmsgattachmenthandler
+analyzedatachunk
+chunk
+print
+length
+chunk
+end
+length
+end
+mhighbitcount
+munprintablecount
+nscrt
+cr
+nscrt
+lf
+munprintablecount
+mctlcount
+mnullcount
+nscrt
+cr
+nscrt
+lf
+end
+nscrt
+cr
+nscrt
+lf
+mmaxcolumn
+mcurrentcolumn
+mmaxcolumn
+mcurrentcolumn
+mcurrentcolumn
+mlines
+mcurrentcolumn
+nsmsgattachmenthandler
+analyzesnarfedfile
+chunk
+print
+numread
+mfileanalyzed
+mfilespec
+nsinputfilestream
+filehdl
+mfilespec
+prrdonly
+filehdl
+isopen
+numread
+filehdl
+read
+chunk
+numread
+analyzedatachunk
+chunk
+numread
+numread
+filehdl
+close
+mfileanalyzed
+prtrue
+nsmsgattachmenthandler
+pickencoding
+charset
+nsimsgsend
+mimedeliverystate
+nsresult
+rv
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefcid
+rv
+prbool
+needsb
+prfalse
+prbool
+forceb
+prfalse
+malreadyencodedp
+done
+analyzesnarfedfile
+nssucceeded
+rv
+prefs
+prefs
+getboolpref
+mail
+fileattachbinary
+forceb
+mmainbody
+forceb
+mimetyperequiresbp
+mtype
+needsb
+prtrue
+prbool
+encodep
+mmaxcolumn
+encodep
+prtrue
+usequotedprintable
+munprintablecount
+encodep
+prtrue
+mnullcount
+encodep
+prtrue
+encodep
+prfalse
+plstrncasecmp
+mtype
+message
+plstrncasecmp
+mtype
+multipart
+encodep
+prfalse
+mdesiredtype
+plstrcasecmp
+mdesiredtype
+textplain
+prfree
+mdesiredtype
+mdesiredtype
+mmainbody
+charset
+nsmsginmultibytecharset
+charset
+plstrcasecmp
+mtype
+texthtml
+plstrcasecmp
+mtype
+textmdl
+plstrcasecmp
+mtype
+textplain
+plstrcasecmp
+mtype
+textrichtext
+plstrcasecmp
+mtype
+textenriched
+plstrcasecmp
+mtype
+textvcard
+plstrcasecmp
+mtype
+applicationdirectory
+plstrcasecmp
+mtype
+textcss
+plstrcasecmp
+mtype
+textjsss
+needsb
+prtrue
+charset
+nsmsginstatefulcharset
+charset
+prfreeif
+mencoding
+mencoding
+plstrdup
+encodingbit
+encodep
+msize
+munprintablecount
+msize
+needsb
+prtrue
+encodep
+prfreeif
+mencoding
+mencoding
+plstrdup
+encodingquotedprintable
+mhighbitcount
+prfreeif
+mencoding
+mencoding
+plstrdup
+encodingbit
+prfreeif
+mencoding
+mencoding
+plstrdup
+encodingbit
+needsb
+prfreeif
+mencoding
+useuuencodep
+mencoding
+plstrdup
+encodinguuencode
+mencoding
+plstrdup
+encodingbase
+nsassertion
+mencoderdata
+mencoderdata
+plstrcasecmp
+mencoding
+encodingbase
+mencoderdata
+mimebencoderinit
+mimeencoderoutputfn
+mimedeliverystate
+mencoderdata
+nserroroutofmemory
+plstrcasecmp
+mencoding
+encodinguuencode
+tailname
+nsxpidlcstring
+turl
+murl
+murl
+getspec
+turl
+tailname
+plstrrchr
+turl
+tailname
+tmp
+tailname
+tailname
+plstrdup
+tailname
+prfreeif
+tmp
+murl
+tailname
+tailname
+plstrrchr
+turl
+tailname
+tmp
+tailname
+tailname
+plstrdup
+tailname
+prfreeif
+tmp
+mencoderdata
+mimeuuencoderinit
+tailname
+tailname
+mimeencoderoutputfn
+mimedeliverystate
+prfreeif
+tailname
+mencoderdata
+nserroroutofmemory
+plstrcasecmp
+mencoding
+encodingquotedprintable
+mencoderdata
+mimeqpencoderinit
+mimeencoderoutputfn
+mimedeliverystate
+mencoderdata
+nserroroutofmemory
+mencoderdata
+done
+mtype
+mtype
+plstrcasecmp
+mtype
+unknowncontenttype
+prfreeif
+mtype
+malreadyencodedp
+mtype
+plstrdup
+applicationoctetstream
+mencoding
+plstrcasecmp
+mencoding
+encodingbase
+plstrcasecmp
+mencoding
+encodinguuencode
+mtype
+plstrdup
+applicationoctetstream
+mtype
+plstrdup
+textplain
+nsresult
+fetcherurldonecallback
+nsresult
+astatus
+acontenttype
+acharset
+print
+totalsize
+prunichar
+amsg
+tagdata
+nsmsgattachmenthandler
+ma
+nsmsgattachmenthandler
+tagdata
+nsassertion
+ma
+nsnull
+mime
+attachment
+ma
+nsnull
+ma
+msize
+totalsize
+acontenttype
+defined
+xpmac
+defined
+xpmacosx
+ma
+mapplefilespec
+endif
+prfreeif
+ma
+mtype
+ma
+mtype
+plstrdup
+acontenttype
+acharset
+prfreeif
+ma
+mcharset
+ma
+mcharset
+plstrdup
+acharset
+ma
+urlexit
+astatus
+amsg
+nsok
+nsresult
+nsmsgattachmenthandler
+snarfmsgattachment
+nsmsgcompfields
+compfields
+nsresult
+rv
+nserrorinvalidarg
+nscomptr
+nsimsgmessageservice
+messageservice
+plstrcasestr
+muri
+message
+mfilespec
+nsmsgcreatetempfilespec
+nsmail
+tmp
+mdeletefile
+prtrue
+mcompfields
+compfields
+prfreeif
+mtype
+mtype
+plstrdup
+messagerfc
+prfreeif
+moverridetype
+moverridetype
+plstrdup
+messagerfc
+mfilespec
+rv
+nserrorfailure
+done
+nscomptr
+nsilocalfile
+localfile
+nscomptr
+nsioutputstream
+outputstream
+nsfilespectoifile
+mfilespec
+getteraddrefs
+localfile
+rv
+nsnewlocalfileoutputstream
+getteraddrefs
+outputstream
+localfile
+nsfailed
+rv
+outputstream
+checksimulatederror
+simulatedsenderror
+mmimedeliverystate
+nscomptr
+nsimsgsendreport
+sendreport
+mmimedeliverystate
+getsendreport
+getteraddrefs
+sendreport
+sendreport
+nsautostring
+errormsg
+nsautostring
+path
+nsmsggetnativepathstring
+mfilespec
+getnativepathcstring
+path
+nsmsgbuilderrormessagebyid
+nsmsgunabletoopentmpfile
+errormsg
+path
+nsnull
+sendreport
+setmessage
+nsimsgsendreport
+processcurrent
+errormsg
+get
+prfalse
+rv
+nsmsgunabletoopentmpfile
+done
+moutfile
+doqueryinterface
+outputstream
+nscomptr
+nsiurlfetcher
+fetcher
+docreateinstance
+nsurlfetchercontractid
+rv
+nsfailed
+rv
+fetcher
+nssucceeded
+rv
+rv
+nserrorunexpected
+done
+rv
+fetcher
+initialize
+localfile
+moutfile
+fetcherurldonecallback
+rv
+getmessageservicefromuri
+muri
+getteraddrefs
+messageservice
+nssucceeded
+rv
+messageservice
+nscautostring
+uri
+muri
+uri
+append
+fetchcompletemessage
+nscomptr
+nsistreamlistener
+strlistener
+fetcher
+queryinterface
+nsgetiid
+nsistreamlistener
+getteraddrefs
+strlistener
+mmimeparser
+docreateinstance
+nsmailnewsmimestreamconvertercontractid
+rv
+nsfailed
+rv
+done
+nscomptr
+nsimimestreamconverter
+mimeconverter
+doqueryinterface
+mmimeparser
+mimeconverter
+mimeconverter
+setmimeoutputtype
+nsmimeoutput
+nsmimemessagedecrypt
+mimeconverter
+setforwardinline
+prfalse
+mimeconverter
+setidentity
+nsnull
+mimeconverter
+setoriginalmsguri
+nsnull
+nscomptr
+nsistreamlistener
+convertedlistener
+doqueryinterface
+mmimeparser
+rv
+nsfailed
+rv
+done
+nscomptr
+nsiuri
+aurl
+rv
+messageservice
+geturlforuri
+uri
+get
+getteraddrefs
+aurl
+nsnull
+aurl
+aurl
+setspec
+nsdependentcstring
+uri
+get
+rv
+nsnewinputstreamchannel
+getteraddrefs
+mconverterchannel
+aurl
+nsnull
+nsfailed
+rv
+done
+rv
+mmimeparser
+asyncconvertdata
+nsliteralstring
+message
+rfc
+get
+nsliteralstring
+message
+rfc
+get
+strlistener
+mconverterchannel
+nsfailed
+rv
+done
+rv
+messageservice
+displaymessage
+uri
+get
+convertedlistener
+nsnull
+nsnull
+nsnull
+nsnull
+done
+nsfailed
+rv
+moutfile
+moutfile
+close
+moutfile
+nsnull
+mfilespec
+mfilespec
+delete
+prfalse
+mfilespec
+mfilespec
+nsnull
+rv
+defined
+xpmac
+defined
+xpmacosx
+prbool
+nsmsgattachmenthandler
+hasresourcefork
+fsspec
+fsspec
+fsref
+fsref
+fspmakefsref
+fsspec
+fsref
+noerr
+fscataloginfo
+cataloginfo
+oserr
+err
+fsgetcataloginfo
+fsref
+kfscatinfodatasizes
+kfscatinforsrcsizes
+cataloginfo
+nsnull
+nsnull
+nsnull
+err
+noerr
+cataloginfo
+rsrclogicalsize
+prfalse
+endif
+nsresult
+nsmsgattachmenthandler
+snarfattachment
+nsmsgcompfields
+compfields
+nsresult
+status
+nsxpidlcstring
+urlstring
+nsassertion
+mdone
+already
+done
+murl
+snarfmsgattachment
+compfields
+mcompfields
+compfields
+mfilespec
+nsmsgcreatetempfilespec
+nsmail
+tmp
+mfilespec
+nserrorfailure
+mdeletefile
+prtrue
+nscomptr
+nsilocalfile
+localfile
+nscomptr
+nsioutputstream
+outputstream
+nsfilespectoifile
+mfilespec
+getteraddrefs
+localfile
+status
+nsnewlocalfileoutputstream
+getteraddrefs
+outputstream
+localfile
+nsfailed
+status
+outputstream
+checksimulatederror
+simulatedsenderror
+mmimedeliverystate
+nscomptr
+nsimsgsendreport
+sendreport
+mmimedeliverystate
+getsendreport
+getteraddrefs
+sendreport
+sendreport
+nsautostring
+errormsg
+nsautostring
+path
+nsmsggetnativepathstring
+mfilespec
+getnativepathcstring
+path
+nsmsgbuilderrormessagebyid
+nsmsgunabletoopentmpfile
+errormsg
+path
+nsnull
+sendreport
+setmessage
+nsimsgsendreport
+processcurrent
+errormsg
+get
+prfalse
+mfilespec
+delete
+prfalse
+mfilespec
+mfilespec
+nsnull
+nsmsgunabletoopentmpfile
+moutfile
+doqueryinterface
+outputstream
+murl
+getspec
+urlstring
+defined
+xpmac
+defined
+xpmacosx
+mbogusattachment
+nsmsgislocalfile
+urlstring
+srcfilename
+nsmsggetlocalfilefromurl
+urlstring
+srcfilename
+nserroroutofmemory
+nscautostring
+escapedfilename
+srcfilename
+nsunescape
+nsconstcast
+escapedfilename
+get
+nsfilespec
+scrfilespec
+escapedfilename
+get
+fsspec
+fsspec
+defined
+xpmac
+fsspec
+scrfilespec
+getfsspec
+elif
+defined
+xpmacosx
+boolean
+isdir
+fspathmakefsspec
+uint
+escapedfilename
+get
+fsspec
+isdir
+endif
+finfo
+info
+fspgetfinfo
+fsspec
+info
+noerr
+filetype
+prsnprintf
+filetype
+filetype
+info
+fdtype
+prfreeif
+mxmactype
+mxmactype
+plstrdup
+filetype
+prsnprintf
+filetype
+filetype
+info
+fdcreator
+prfreeif
+mxmaccreator
+mxmaccreator
+plstrdup
+filetype
+prbool
+sendresourcefork
+prtrue
+prbool
+icgaveneededinfo
+prfalse
+nscomptr
+nsiinternetconfigservice
+icservice
+dogetservice
+nsinternetconfigservicecontractid
+icservice
+print
+icflags
+nsresult
+rv
+icservice
+getfilemappingflags
+fsspec
+prfalse
+icflags
+nssucceeded
+rv
+icflags
+icflags
+nsiinternetconfigservice
+eiicmapflagnotoutgoingmask
+sendresourcefork
+icflags
+nsiinternetconfigservice
+eiicmapflagresourceforkmask
+sendresourcefork
+defined
+xpmac
+defined
+xpmacosx
+sendresourcefork
+hasresourcefork
+fsspec
+endif
+icgaveneededinfo
+prtrue
+icgaveneededinfo
+sendresourcefork
+hasresourcefork
+fsspec
+sendresourcefork
+nscomptr
+nsiurl
+fileurl
+docreateinstance
+nsstandardurlcontractid
+fileurl
+nsresult
+rv
+fileurl
+setspec
+urlstring
+nssucceeded
+rv
+nscautostring
+ext
+rv
+fileurl
+getfileextension
+ext
+nssucceeded
+rv
+ext
+isempty
+sendresourcefork
+plstrcasecmp
+ext
+get
+txt
+plstrcasecmp
+ext
+get
+jpg
+plstrcasecmp
+ext
+get
+gif
+plstrcasecmp
+ext
+get
+tif
+plstrcasecmp
+ext
+get
+htm
+plstrcasecmp
+ext
+get
+html
+plstrcasecmp
+ext
+get
+art
+plstrcasecmp
+ext
+get
+xul
+plstrcasecmp
+ext
+get
+xml
+plstrcasecmp
+ext
+get
+css
+plstrcasecmp
+ext
+get
+js
+sendresourcefork
+useuuencodep
+separator
+nsinputfilestream
+myinputfile
+nsinputfilestream
+scrfilespec
+myinputfile
+myinputfile
+isopen
+nserroroutofmemory
+separator
+mimemakeseparator
+ad
+separator
+myinputfile
+prfreeif
+srcfilename
+nserroroutofmemory
+mapplefilespec
+nsmsgcreatetempfilespec
+appledouble
+mapplefilespec
+myinputfile
+prfreeif
+separator
+prfreeif
+srcfilename
+nserroroutofmemory
+appledoubleencodeobject
+obj
+appledoubleencodeobject
+obj
+mapplefilespec
+prfreeif
+srcfilename
+prfreeif
+separator
+nserroroutofmemory
+obj
+filestream
+nsiofilestream
+mapplefilespec
+prrdwr
+prcreatefile
+prtruncate
+obj
+filestream
+obj
+filestream
+isopen
+myinputfile
+prfreeif
+srcfilename
+prfreeif
+separator
+obj
+nserroroutofmemory
+print
+bsize
+adworkingbuffsize
+workingbuff
+nsnull
+workingbuff
+bsize
+workingbuff
+prcalloc
+bsize
+workingbuff
+bsize
+workingbuff
+prfreeif
+srcfilename
+prfreeif
+separator
+obj
+nserroroutofmemory
+obj
+buff
+workingbuff
+obj
+sbuff
+bsize
+apencodeinit
+obj
+apencodeobj
+escapedfilename
+get
+separator
+print
+count
+status
+noerr
+msize
+status
+noerr
+status
+apencodenext
+obj
+apencodeobj
+obj
+buff
+bsize
+count
+status
+noerr
+status
+errdone
+obj
+filestream
+write
+obj
+buff
+count
+count
+status
+nsmsgerrorwritingfile
+myinputfile
+apencodeend
+obj
+apencodeobj
+status
+obj
+filestream
+obj
+filestream
+close
+prfreeif
+obj
+buff
+prfreeif
+obj
+newurlspec
+nsmsgplatformfiletourl
+mapplefilespec
+newurlspec
+prfreeif
+srcfilename
+prfreeif
+separator
+nserroroutofmemory
+nsfailed
+nsmsgnewurl
+getteraddrefs
+murl
+newurlspec
+prfreeif
+srcfilename
+prfreeif
+separator
+prfreeif
+newurlspec
+nserroroutofmemory
+prfreeif
+newurlspec
+tmp
+prsnprintf
+tmp
+tmp
+multipartappledouble
+boundary
+separator
+prfreeif
+separator
+prfreeif
+mtype
+mtype
+plstrdup
+tmp
+sendresourcefork
+nsassertion
+useuuencodep
+useuuencodep
+printf
+we
+could
+ask
+the
+user
+about
+conversion
+but
+now
+nahh
+prbool
+usedefault
+mactype
+macencoding
+mtype
+plstrcasecmp
+mtype
+textplain
+define
+texttype
+define
+texttype
+info
+fdtype
+texttype
+info
+fdtype
+texttype
+macgetfiletype
+scrfilespec
+usedefault
+mactype
+macencoding
+prfreeif
+mtype
+mtype
+mactype
+prfreeif
+srcfilename
+endif
+nsresult
+rv
+nscomptr
+nsiurlfetcher
+fetcher
+docreateinstance
+nsurlfetchercontractid
+rv
+nsfailed
+rv
+fetcher
+nssucceeded
+rv
+nserrorunexpected
+rv
+status
+fetcher
+fireurlrequest
+murl
+localfile
+moutfile
+fetcherurldonecallback
+nsfailed
+status
+nserrorunexpected
+status
+nsresult
+nsmsgattachmenthandler
+loaddatafromfile
+nsfilespec
+fspec
+nsstring
+sigdata
+prbool
+charsetconversion
+print
+readsize
+readbuf
+nsinputfilestream
+tempfile
+fspec
+tempfile
+isopen
+nsmsgerrorwritingfile
+readsize
+fspec
+getfilesize
+readbuf
+prmalloc
+readsize
+readbuf
+nserroroutofmemory
+memset
+readbuf
+readsize
+readsize
+tempfile
+read
+readbuf
+readsize
+tempfile
+close
+charsetconversion
+nsfailed
+converttounicode
+mcharset
+readbuf
+sigdata
+sigdata
+assignwithconversion
+readbuf
+sigdata
+assignwithconversion
+readbuf
+prfreeif
+readbuf
+nsok
+nsresult
+nsmsgattachmenthandler
+abort
+nsassertion
+mmimedeliverystate
+nsnull
+mmimedeliverystate
+mdone
+nsok
+mrequest
+mrequest
+cancel
+nserrorabort
+mmimedeliverystate
+mmimedeliverystate
+setstatus
+nserrorabort
+mmimedeliverystate
+notifylisteneronstopsending
+nsnull
+nserrorabort
+nsnull
+nsok
+nsresult
+nsmsgattachmenthandler
+urlexit
+nsresult
+status
+prunichar
+amsg
+nsassertion
+mmimedeliverystate
+nsnull
+mmimedeliverystate
+moutfile
+moutfile
+close
+moutfile
+nsnull
+mrequest
+nsnull
+mtype
+mtype
+mcharset
+mcharset
+plstrcasecmp
+mtype
+texthtml
+tmpcharset
+nsmsginparsemetacharset
+mfilespec
+tmpcharset
+prfreeif
+mcharset
+mcharset
+plstrdup
+tmpcharset
+nsresult
+mimedeliverystatus
+mmimedeliverystate
+getstatus
+mimedeliverystatus
+mimedeliverystatus
+nserrorabort
+status
+nserrorabort
+nsfailed
+status
+status
+nserrorabort
+nssucceeded
+mimedeliverystatus
+prbool
+keepongoing
+prtrue
+nsxpidlcstring
+turl
+nsxpidlstring
+msg
+prunichar
+printfstring
+nsnull
+nscomptr
+nsimsgstringservice
+composebundle
+dogetservice
+nsmsgcomposestringservicecontractid
+nsmsgdelivermode
+mode
+nsimsgsend
+nsmsgdelivernow
+mmimedeliverystate
+getdeliverymode
+mode
+mode
+nsimsgsend
+nsmsgsaveasdraft
+mode
+nsimsgsend
+nsmsgsaveastemplate
+composebundle
+getstringbyid
+nsmsgfailureonobjembedwhilesaving
+gettercopies
+msg
+composebundle
+getstringbyid
+nsmsgfailureonobjembedwhilesending
+gettercopies
+msg
+mrealname
+mrealname
+printfstring
+nstextformatter
+smprintf
+msg
+mrealname
+nssucceeded
+murl
+getspec
+turl
+turl
+nscautostring
+unescapeurl
+turl
+nsunescape
+nsconstcast
+unescapeurl
+get
+unescapeurl
+isempty
+printfstring
+nstextformatter
+smprintf
+msg
+turl
+get
+printfstring
+nstextformatter
+smprintf
+msg
+unescapeurl
+get
+printfstring
+nstextformatter
+smprintf
+msg
+nscomptr
+nsiprompt
+aprompt
+mmimedeliverystate
+mmimedeliverystate
+getdefaultprompt
+getteraddrefs
+aprompt
+nsmsgaskbooleanquestionbystring
+aprompt
+printfstring
+keepongoing
+prfreeif
+printfstring
+keepongoing
+status
+mbogusattachment
+prtrue
+status
+nserrorabort
+mmimedeliverystate
+setstatus
+status
+nsresult
+ignoreme
+mmimedeliverystate
+fail
+status
+nsnull
+ignoreme
+mmimedeliverystate
+notifylisteneronstopsending
+nsnull
+status
+nsnull
+setmimedeliverystate
+nsnull
+status
+mdone
+prtrue
+nssucceeded
+status
+mtype
+plstrcasecmp
+mtype
+textplain
+mdesiredtype
+plstrcasecmp
+mdesiredtype
+textplain
+print
+width
+nsresult
+rv
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefcid
+rv
+nssucceeded
+rv
+prefs
+prefs
+getintpref
+mailnews
+wraplength
+width
+width
+width
+width
+width
+width
+width
+nsstring
+condata
+nssucceeded
+loaddatafromfile
+mfilespec
+condata
+prtrue
+nssucceeded
+convertbuftoplaintext
+condata
+useformatflowed
+mcharset
+mdeletefile
+mfilespec
+delete
+prfalse
+nsoutputfilestream
+tempfile
+mfilespec
+prwronly
+prcreatefile
+tempfile
+isopen
+tdata
+nsnull
+nsfailed
+convertfromunicode
+mcharset
+condata
+tdata
+tdata
+tonewcstring
+condata
+tdata
+tempfile
+write
+tdata
+strlen
+tdata
+prfreeif
+tdata
+tempfile
+close
+prfreeif
+mtype
+mtype
+mdesiredtype
+mdesiredtype
+nsnull
+prfreeif
+mencoding
+mencoding
+nsnull
+pruint
+pendingattachmentcount
+mmimedeliverystate
+getpendingattachmentcount
+pendingattachmentcount
+nsassertion
+pendingattachmentcount
+no
+more
+pending
+attachment
+mmimedeliverystate
+setpendingattachmentcount
+pendingattachmentcount
+prbool
+processattachmentssynchronously
+prfalse
+mmimedeliverystate
+getprocessattachmentssynchronously
+processattachmentssynchronously
+nssucceeded
+status
+processattachmentssynchronously
+pruint
+nsmsgattachmenthandler
+next
+nsmsgattachmenthandler
+attachments
+nsnull
+pruint
+attachmentcount
+mmimedeliverystate
+getattachmentcount
+attachmentcount
+attachmentcount
+mmimedeliverystate
+getattachmenthandlers
+attachments
+attachmentcount
+attachments
+mdone
+next
+attachments
+next
+murl
+next
+muri
+attachments
+mdone
+prtrue
+mmimedeliverystate
+getpendingattachmentcount
+pendingattachmentcount
+mmimedeliverystate
+setpendingattachmentcount
+pendingattachmentcount
+next
+mpartuseromissionoverride
+prtrue
+next
+nsnull
+next
+status
+next
+snarfattachment
+mcompfields
+nsfailed
+status
+nsresult
+ignoreme
+mmimedeliverystate
+fail
+status
+nsnull
+ignoreme
+mmimedeliverystate
+notifylisteneronstopsending
+nsnull
+status
+nsnull
+setmimedeliverystate
+nsnull
+nserrorunexpected
+mmimedeliverystate
+getpendingattachmentcount
+pendingattachmentcount
+pendingattachmentcount
+nsfailed
+status
+nsresult
+ignoreme
+mmimedeliverystate
+fail
+status
+amsg
+ignoreme
+mmimedeliverystate
+notifylisteneronstopsending
+nsnull
+status
+amsg
+nsnull
+setmimedeliverystate
+nsnull
+nserrorunexpected
+status
+mmimedeliverystate
+gathermimeattachments
+nsfailed
+status
+nsresult
+ignoreme
+mmimedeliverystate
+fail
+status
+amsg
+ignoreme
+mmimedeliverystate
+notifylisteneronstopsending
+nsnull
+status
+amsg
+nsnull
+setmimedeliverystate
+nsnull
+nserrorunexpected
+nsfailed
+status
+nsresult
+ignoreme
+mmimedeliverystate
+fail
+status
+amsg
+ignoreme
+setmimedeliverystate
+nsnull
+nsok
+prbool
+nsmsgattachmenthandler
+useuuencodep
+mcompfields
+mcompfields
+getuuencodeattachments
+prfalse
+nsresult
+nsmsgattachmenthandler
+getmimedeliverystate
+nsimsgsend
+retval
+nsensurearg
+retval
+retval
+mmimedeliverystate
+nsifaddref
+retval
+nsok
+nsresult
+nsmsgattachmenthandler
+setmimedeliverystate
+nsimsgsend
+mimedeliverystate
+nscomptr
+nsimsgsend
+temp
+mmimedeliverystate
+mmimedeliverystate
+mimedeliverystate
+nsok
\ No newline at end of file
@@ -0,0 +1,1170 @@
+nscore
+msgcore
+nscrt
+nsmsgappledouble
+nsmsgapplecodes
+nsmsgbinhex
+xpgetstr
+ifdef
+xpmac
+standardfile
+pragma
+warnunusedarg
+off
+endif
+binhextable
+xa
+xb
+xc
+xd
+xa
+xb
+xc
+xd
+xe
+xa
+xb
+xa
+xb
+xc
+xd
+private
+binhexfilldata
+binhexencodeobject
+pbhencodeobj
+pbhencodeobj
+posoutbuff
+pbhencodeobj
+soutbuff
+pbhencodeobj
+overflow
+pbhencodeobj
+soverflow
+pbhencodeobj
+outbuff
+pbhencodeobj
+posoutbuff
+pbhencodeobj
+linelength
+pbhencodeobj
+newline
+binhexfilldata
+pbhencodeobj
+pbhencodeobj
+newline
+pbhencodeobj
+linelength
+pbhencodeobj
+soverflow
+erreob
+noerr
+private
+binhexencodedatachar
+binhexencodeobject
+pbhencodeobj
+status
+pbhencodeobj
+state
+status
+binhexfilldata
+pbhencodeobj
+binhextable
+xf
+pbhencodeobj
+savedbits
+status
+binhexfilldata
+pbhencodeobj
+binhextable
+pbhencodeobj
+savedbits
+xf
+pbhencodeobj
+savedbits
+xf
+status
+binhexfilldata
+pbhencodeobj
+binhextable
+pbhencodeobj
+savedbits
+status
+noerr
+status
+binhexfilldata
+pbhencodeobj
+binhextable
+xf
+pbhencodeobj
+state
+status
+define
+bytemask
+xff
+define
+bytebit
+define
+wordmask
+xffff
+define
+wordbit
+define
+crcconstant
+define
+wow
+temp
+wordbit
+temp
+temp
+wordmask
+crcconstant
+temp
+bytemask
+private
+binhexcompqcrcout
+binhexencodeobject
+pbhencodeobj
+uint
+uint
+temp
+pbhencodeobj
+crc
+wow
+wow
+wow
+wow
+wow
+wow
+wow
+wow
+pbhencodeobj
+crc
+temp
+private
+binhexencodebuff
+binhexencodeobject
+pbhencodeobj
+data
+size
+status
+dc
+size
+dc
+data
+status
+binhexencodedatachar
+pbhencodeobj
+dc
+dc
+status
+binhexencodedatachar
+pbhencodeobj
+status
+noerr
+binhexcompqcrcout
+pbhencodeobj
+dc
+status
+private
+binhexencodeendapart
+binhexencodeobject
+pbhencodeobj
+status
+uint
+tempcrc
+binhexcompqcrcout
+pbhencodeobj
+binhexcompqcrcout
+pbhencodeobj
+tempcrc
+uint
+pbhencodeobj
+crc
+xffff
+tempcrc
+htons
+tempcrc
+status
+binhexencodebuff
+pbhencodeobj
+tempcrc
+uint
+pbhencodeobj
+crc
+status
+private
+binhexencodefinishing
+binhexencodeobject
+pbhencodeobj
+status
+pbhencodeobj
+state
+status
+binhexencodebuff
+pbhencodeobj
+status
+status
+binhexfilldata
+pbhencodeobj
+pbhencodeobj
+newline
+status
+binhexfilldata
+pbhencodeobj
+pbhencodeobj
+newline
+errdone
+binhexencodeinit
+binhexencodeobject
+pbhencodeobj
+memset
+pbhencodeobj
+binhexencodeobject
+pbhencodeobj
+linelength
+pbhencodeobj
+newline
+pbhencodeobj
+newline
+cr
+pbhencodeobj
+newline
+lf
+noerr
+binhexencodenext
+binhexencodeobject
+pbhencodeobj
+inbuff
+int
+insize
+outbuff
+int
+buffsize
+int
+realsize
+status
+pbhencodeobj
+outbuff
+outbuff
+pbhencodeobj
+soutbuff
+buffsize
+pbhencodeobj
+posoutbuff
+pbhencodeobj
+soverflow
+memcpy
+pbhencodeobj
+overflow
+pbhencodeobj
+outbuff
+pbhencodeobj
+soverflow
+pbhencodeobj
+posoutbuff
+pbhencodeobj
+soverflow
+pbhencodeobj
+soverflow
+pbhencodeobj
+state
+binhexstatedone
+inbuff
+insize
+pbhencodeobj
+state
+binhexstatefinish
+status
+binhexencodeendapart
+pbhencodeobj
+status
+binhexencodefinishing
+pbhencodeobj
+pbhencodeobj
+state
+pbhencodeobj
+state
+binhexstatestart
+plstrcpy
+pbhencodeobj
+outbuff
+pbhencodeobj
+posoutbuff
+this
+file
+must
+be
+converted
+with
+binhex
+pbhencodeobj
+posoutbuff
+pbhencodeobj
+state
+binhexstateheader
+memcpy
+pbhencodeobj
+name
+inbuff
+insize
+pbhencodeobj
+state
+binhexstateheader
+memcpy
+pbhencodeobj
+head
+inbuff
+binhexheader
+insize
+insize
+pbhencodeobj
+head
+dlen
+pbhencodeobj
+state
+binhexstatedfork
+pbhencodeobj
+head
+dlen
+pbhencodeobj
+inbuff
+pbhencodeobj
+inbuff
+pbhencodeobj
+head
+dlen
+insize
+status
+binhexencodebuff
+pbhencodeobj
+inbuff
+insize
+realsize
+pbhencodeobj
+posoutbuff
+status
+binhexreencodehead
+binhexencodeobject
+pbhencodeobj
+outbuff
+int
+buffsize
+int
+realsize
+int
+size
+dlen
+status
+buff
+pbhencodeobj
+state
+pbhencodeobj
+state
+pbhencodeobj
+crc
+pbhencodeobj
+linelength
+pbhencodeobj
+savedbits
+pbhencodeobj
+soverflow
+status
+binhexencodenext
+pbhencodeobj
+pbhencodeobj
+name
+pbhencodeobj
+name
+outbuff
+buffsize
+realsize
+status
+noerr
+status
+size
+realsize
+pbhencodeobj
+head
+dlen
+htonl
+dlen
+pbhencodeobj
+head
+dlen
+memcpy
+buff
+pbhencodeobj
+head
+binhexheader
+binhexheader
+memcpy
+buff
+buff
+status
+binhexencodenext
+pbhencodeobj
+buff
+outbuff
+size
+buffsize
+size
+realsize
+status
+noerr
+status
+size
+realsize
+status
+binhexencodenext
+pbhencodeobj
+outbuff
+size
+buffsize
+size
+realsize
+status
+noerr
+status
+size
+realsize
+pbhencodeobj
+state
+dlen
+status
+binhexencodenext
+pbhencodeobj
+pbhencodeobj
+dlen
+outbuff
+size
+buffsize
+size
+realsize
+status
+noerr
+status
+size
+realsize
+status
+binhexencodenext
+pbhencodeobj
+outbuff
+size
+buffsize
+size
+realsize
+status
+noerr
+status
+size
+realsize
+status
+binhexencodenext
+pbhencodeobj
+outbuff
+size
+buffsize
+size
+realsize
+status
+binhexencodenext
+pbhencodeobj
+pbhencodeobj
+pbhencodeobj
+state
+outbuff
+size
+buffsize
+size
+realsize
+size
+realsize
+realsize
+size
+status
+binhexencodeend
+binhexencodeobject
+pbhencodeobj
+xpbool
+isaborting
+noerr
+binhexdecode
+define
+bhexval
+binhexdecode
+binhexdecodeinit
+binhexdecodeobject
+pbhdecodeobj
+memset
+pbhdecodeobj
+binhexdecodeobject
+pbhdecodeobj
+octetin
+pbhdecodeobj
+donepos
+noerr
+private
+binhexprocess
+binhexdecodeobject
+pbhdecodeobj
+int
+status
+uint
+tmpcrc
+cval
+ctmp
+pbhdecodeobj
+rlebuf
+ctmp
+pbhdecodeobj
+incrc
+cval
+pbhdecodeobj
+crc
+xf
+tmpcrc
+uint
+pbhdecodeobj
+crc
+ctmp
+cval
+cval
+cval
+cval
+tmpcrc
+xf
+pbhdecodeobj
+crc
+uint
+tmpcrc
+ctmp
+xf
+cval
+cval
+cval
+pbhdecodeobj
+state
+binhexstatestart
+pbhdecodeobj
+state
+binhexstatefname
+pbhdecodeobj
+count
+ifndef
+xpmac
+pbhdecodeobj
+name
+xpalloc
+endif
+pbhdecodeobj
+name
+binhexstatefname
+pbhdecodeobj
+name
+pbhdecodeobj
+count
+pbhdecodeobj
+count
+pbhdecodeobj
+name
+pbhdecodeobj
+name
+pbhdecodeobj
+name
+endif
+pbhdecodeobj
+state
+binhexstateheader
+pbhdecodeobj
+count
+binhexstateheader
+pbhdecodeobj
+head
+pbhdecodeobj
+count
+pbhdecodeobj
+count
+ifndef
+xpmac
+binhexheader
+pbhdecodeobj
+head
+endif
+pbhdecodeobj
+state
+binhexstatehcrc
+pbhdecodeobj
+incrc
+pbhdecodeobj
+count
+binhexstatedfork
+binhexstaterfork
+pbhdecodeobj
+outbuff
+pbhdecodeobj
+posoutbuff
+pbhdecodeobj
+count
+ifdef
+xpmac
+howmuch
+pbhdecodeobj
+posoutbuff
+status
+fswrite
+pbhdecodeobj
+fileid
+howmuch
+pbhdecodeobj
+outbuff
+fsclose
+pbhdecodeobj
+fileid
+pbhdecodeobj
+state
+binhexstatedfork
+status
+pbhdecodeobj
+fileid
+write
+pbhdecodeobj
+outbuff
+pbhdecodeobj
+posoutbuff
+pbhdecodeobj
+posoutbuff
+noerr
+errfilewrite
+pbhdecodeobj
+fileid
+close
+status
+noerr
+endif
+pbhdecodeobj
+posoutbuff
+status
+noerr
+pbhdecodeobj
+state
+status
+pbhdecodeobj
+state
+pbhdecodeobj
+fileid
+pbhdecodeobj
+incrc
+pbhdecodeobj
+posoutbuff
+maxbuffsize
+ifdef
+xpmac
+howmuch
+pbhdecodeobj
+posoutbuff
+status
+fswrite
+pbhdecodeobj
+fileid
+howmuch
+pbhdecodeobj
+outbuff
+pbhdecodeobj
+state
+binhexstatedfork
+status
+pbhdecodeobj
+fileid
+write
+pbhdecodeobj
+outbuff
+pbhdecodeobj
+posoutbuff
+pbhdecodeobj
+posoutbuff
+noerr
+errfilewrite
+status
+noerr
+endif
+status
+noerr
+pbhdecodeobj
+state
+status
+pbhdecodeobj
+posoutbuff
+binhexstatehcrc
+binhexstatedcrc
+binhexstatercrc
+pbhdecodeobj
+count
+pbhdecodeobj
+filecrc
+pbhdecodeobj
+filecrc
+pbhdecodeobj
+crc
+pbhdecodeobj
+state
+binhexstatehcrc
+ifdef
+xpmac
+hdelete
+pbhdecodeobj
+vrefnum
+pbhdecodeobj
+parid
+pbhdecodeobj
+name
+pbhdecodeobj
+name
+delete
+prfalse
+endif
+pbhdecodeobj
+state
+errdecoding
+pbhdecodeobj
+crc
+pbhdecodeobj
+state
+binhexstatefinish
+ifdef
+xpmac
+finfo
+finfo
+finfo
+fdtype
+pbhdecodeobj
+head
+type
+finfo
+fdcreator
+pbhdecodeobj
+head
+creator
+finfo
+fdflags
+pbhdecodeobj
+head
+flags
+xf
+hsetfinfo
+pbhdecodeobj
+vrefnum
+pbhdecodeobj
+parid
+pbhdecodeobj
+name
+finfo
+endif
+pbhdecodeobj
+state
+pbhdecodeobj
+state
+binhexstatedfork
+ifdef
+xpmac
+standardfilereply
+reply
+pbhdecodeobj
+mspec
+standardputfile
+psave
+decoded
+file
+as
+pbhdecodeobj
+name
+reply
+reply
+sfgood
+pbhdecodeobj
+state
+errusrcancel
+reply
+sffile
+vrefnum
+pbhdecodeobj
+mspec
+vrefnum
+reply
+sffile
+parid
+pbhdecodeobj
+mspec
+parid
+memcpy
+reply
+sffile
+name
+pbhdecodeobj
+mspec
+name
+memcpy
+pbhdecodeobj
+name
+reply
+sffile
+name
+reply
+sffile
+name
+pbhdecodeobj
+vrefnum
+reply
+sffile
+vrefnum
+pbhdecodeobj
+parid
+reply
+sffile
+parid
+hdelete
+reply
+sffile
+vrefnum
+reply
+sffile
+parid
+reply
+sffile
+name
+status
+hcreate
+pbhdecodeobj
+vrefnum
+pbhdecodeobj
+parid
+reply
+sffile
+name
+pbhdecodeobj
+head
+creator
+pbhdecodeobj
+head
+type
+filename
+filename
+xpalloc
+filename
+freeif
+filename
+pbhdecodeobj
+state
+errusrcancel
+pbhdecodeobj
+name
+pbhdecodeobj
+fileid
+pbhdecodeobj
+name
+nsfilespec
+filename
+pbhdecodeobj
+name
+status
+errfileopen
+pbhdecodeobj
+fileid
+nsiofilestream
+pbhdecodeobj
+name
+prrdwr
+prcreatefile
+prtruncate
+pbhdecodeobj
+fileid
+status
+errfileopen
+status
+noerr
+xpfree
+filename
+endif
+status
+noerr
+pbhdecodeobj
+state
+status
+pbhdecodeobj
+count
+ntohl
+pbhdecodeobj
+head
+dlen
+pbhdecodeobj
+count
+ntohl
+pbhdecodeobj
+head
+rlen
+pbhdecodeobj
+count
+pbhdecodeobj
+incrc
+ifdef
+xpmac
+pbhdecodeobj
+state
+binhexstatedfork
+status
+hopen
+pbhdecodeobj
+vrefnum
+pbhdecodeobj
+parid
+pbhdecodeobj
+name
+fswrperm
+pbhdecodeobj
+fileid
+status
+hopenrf
+pbhdecodeobj
+vrefnum
+pbhdecodeobj
+parid
+pbhdecodeobj
+name
+fswrperm
+pbhdecodeobj
+fileid
+status
+noerr
+pbhdecodeobj
+state
+errfileopen
+hdelete
+pbhdecodeobj
+vrefnum
+pbhdecodeobj
+parid
+pbhdecodeobj
+name
+endif
+pbhdecodeobj
+state
+getnextchar
+binhexdecodeobject
+pbhdecodeobj
+pbhdecodeobj
+posinbuff
+pbhdecodeobj
+sinbuff
+pbhdecodeobj
+inbuff
+pbhdecodeobj
+posinbuff
+lf
+cr
+lf
+cr
+binhexdecodenext
+binhexdecodeobject
+pbhdecodeobj
+inbuff
+int
+buffsize
+foundstart
+octetpos
+uint
+val
+pbhdecodeobj
+inbuff
+inbuff
+pbhdecodeobj
+sinbuff
+buffsize
+pbhdecodeobj
+posinbuff
+pbhdecodeobj
+state
+binhexstatestart
+foundstart
+false
+pbhdecodeobj
+posinbuff
+pbhdecodeobj
+sinbuff
+pbhdecodeobj
+inbuff
+pbhdecodeobj
+posinbuff
+cr
+lf
+pbhdecodeobj
+posinbuff
+pbhdecodeobj
+sinbuff
+pbhdecodeobj
+inbuff
+pbhdecodeobj
+posinbuff
+foundstart
+true
+foundstart
+pbhdecodeobj
+posinbuff
+pbhdecodeobj
+sinbuff
+noerr
+errdecoding
+pbhdecodeobj
+state
+pbhdecodeobj
+state
+binhexstatedone
+pbhdecodeobj
+posinbuff
+pbhdecodeobj
+sinbuff
+noerr
+getnextchar
+pbhdecodeobj
+noerr
+val
+bhexval
+pbhdecodeobj
+donepos
+pbhdecodeobj
+octetin
+pbhdecodeobj
+donepos
+pbhdecodeobj
+octetin
+pbhdecodeobj
+donepos
+pbhdecodeobj
+octetbuf
+val
+val
+pbhdecodeobj
+octetin
+pbhdecodeobj
+octetin
+ifndef
+xpmac
+pbhdecodeobj
+octetbuf
+val
+ntohl
+pbhdecodeobj
+octetbuf
+val
+endif
+octetpos
+octetpos
+pbhdecodeobj
+donepos
+octetpos
+pbhdecodeobj
+octetbuf
+octetpos
+pbhdecodeobj
+marker
+pbhdecodeobj
+marker
+pbhdecodeobj
+rlebuf
+binhexprocess
+pbhdecodeobj
+binhexprocess
+pbhdecodeobj
+pbhdecodeobj
+marker
+pbhdecodeobj
+rlebuf
+binhexprocess
+pbhdecodeobj
+pbhdecodeobj
+state
+binhexstatefinish
+pbhdecodeobj
+donepos
+pbhdecodeobj
+state
+binhexstatefinish
+pbhdecodeobj
+state
+errdecoding
+pbhdecodeobj
+octetin
+pbhdecodeobj
+octetbuf
+val
+pbhdecodeobj
+state
+pbhdecodeobj
+fileid
+ifdef
+xpmac
+fsclose
+pbhdecodeobj
+fileid
+pbhdecodeobj
+fileid
+hdelete
+pbhdecodeobj
+vrefnum
+pbhdecodeobj
+parid
+pbhdecodeobj
+name
+pbhdecodeobj
+fileid
+close
+pbhdecodeobj
+fileid
+pbhdecodeobj
+name
+prfalse
+endif
+pbhdecodeobj
+state
+pbhdecodeobj
+state
+pbhdecodeobj
+state
+binhexstatefinish
+errdone
+noerr
+binhexdecodeend
+binhexdecodeobject
+pbhdecodeobj
+xpbool
+isaborting
+ifdef
+xpmac
+pbhdecodeobj
+fileid
+fsclose
+pbhdecodeobj
+fileid
+pbhdecodeobj
+fileid
+isaborting
+hdelete
+pbhdecodeobj
+vrefnum
+pbhdecodeobj
+parid
+pbhdecodeobj
+name
+pbhdecodeobj
+fileid
+pbhdecodeobj
+fileid
+close
+isaborting
+pbhdecodeobj
+name
+delete
+prfalse
+freeif
+pbhdecodeobj
+name
+endif
+noerr
\ No newline at end of file
@@ -0,0 +1,1245 @@
+nsmsgcompfields
+nscrt
+nsipref
+nsmsgin
+nsmsgcomposestringbundle
+nsmsgrecipientarray
+nsimsgheaderparser
+nsmsgcomputils
+prmem
+nsifilechannel
+nsreadableutils
+nsimsgmdngenerator
+nsimplthreadsafeisupports
+nsmsgcompfields
+nsimsgcompfields
+nsmsgcompfields
+nsmsgcompfields
+print
+msgmaxheaders
+mheaders
+nsnull
+mbody
+nsnull
+nsnewisupportsarray
+getteraddrefs
+mattachments
+mattachvcard
+prfalse
+mforceplaintext
+prfalse
+musemultipartalternative
+prfalse
+muuencodeattachments
+prfalse
+mreturnreceipt
+prfalse
+mreceiptheadertype
+nsimsgmdngenerator
+ednttype
+mbodyisasciionly
+prfalse
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+prefs
+nsxpidlstring
+charset
+prefs
+getlocalizedunicharpref
+mailnews
+senddefaultcharset
+gettercopies
+charset
+charset
+isempty
+mdefaultcharacterset
+assign
+iso
+mdefaultcharacterset
+assignwithconversion
+charset
+setcharacterset
+mdefaultcharacterset
+get
+minternalcharset
+assign
+msgcompheaderinternalcharset
+nsmsgcompfields
+nsmsgcompfields
+print
+msgmaxheaders
+prfreeif
+mheaders
+prfreeif
+mbody
+nsresult
+nsmsgcompfields
+setasciiheader
+msgheaderid
+header
+value
+nsassertion
+header
+header
+msgmaxheaders
+invalid
+message
+header
+index
+rv
+nsok
+old
+mheaders
+header
+value
+old
+value
+mheaders
+header
+nscrt
+strdup
+value
+mheaders
+header
+rv
+nserroroutofmemory
+mheaders
+header
+nsnull
+prfreeif
+old
+rv
+nsmsgcompfields
+getasciiheader
+msgheaderid
+header
+nsassertion
+header
+header
+msgmaxheaders
+invalid
+message
+header
+index
+mheaders
+header
+mheaders
+header
+nsresult
+nsmsgcompfields
+setunicodeheader
+msgheaderid
+header
+prunichar
+value
+cstring
+convertfromunicode
+minternalcharset
+get
+nsautostring
+value
+cstring
+nsresult
+rv
+setasciiheader
+header
+cstring
+prfree
+cstring
+rv
+nsresult
+nsmsgcompfields
+getunicodeheader
+msgheaderid
+header
+prunichar
+retval
+nsstring
+unicodestr
+converttounicode
+minternalcharset
+get
+getasciiheader
+header
+unicodestr
+retval
+tonewunicode
+unicodestr
+nsok
+nsimethodimp
+nsmsgcompfields
+setfrom
+prunichar
+value
+setunicodeheader
+msgfromheaderid
+value
+nsimethodimp
+nsmsgcompfields
+getfrom
+prunichar
+retval
+getunicodeheader
+msgfromheaderid
+retval
+nsimethodimp
+nsmsgcompfields
+setreplyto
+prunichar
+value
+setunicodeheader
+msgreplytoheaderid
+value
+nsimethodimp
+nsmsgcompfields
+getreplyto
+prunichar
+retval
+getunicodeheader
+msgreplytoheaderid
+retval
+nsimethodimp
+nsmsgcompfields
+setto
+prunichar
+value
+setunicodeheader
+msgtoheaderid
+value
+nsimethodimp
+nsmsgcompfields
+getto
+prunichar
+retval
+getunicodeheader
+msgtoheaderid
+retval
+nsimethodimp
+nsmsgcompfields
+setcc
+prunichar
+value
+setunicodeheader
+msgccheaderid
+value
+nsimethodimp
+nsmsgcompfields
+getcc
+prunichar
+retval
+getunicodeheader
+msgccheaderid
+retval
+nsimethodimp
+nsmsgcompfields
+setbcc
+prunichar
+value
+setunicodeheader
+msgbccheaderid
+value
+nsimethodimp
+nsmsgcompfields
+getbcc
+prunichar
+retval
+getunicodeheader
+msgbccheaderid
+retval
+nsimethodimp
+nsmsgcompfields
+setfcc
+prunichar
+value
+setunicodeheader
+msgfccheaderid
+value
+nsimethodimp
+nsmsgcompfields
+getfcc
+prunichar
+retval
+getunicodeheader
+msgfccheaderid
+retval
+nsimethodimp
+nsmsgcompfields
+setfcc
+prunichar
+value
+setunicodeheader
+msgfccheaderid
+value
+nsimethodimp
+nsmsgcompfields
+getfcc
+prunichar
+retval
+getunicodeheader
+msgfccheaderid
+retval
+nsimethodimp
+nsmsgcompfields
+setnewsgroups
+value
+setasciiheader
+msgnewsgroupsheaderid
+value
+nsimethodimp
+nsmsgcompfields
+getnewsgroups
+retval
+retval
+nscrt
+strdup
+getasciiheader
+msgnewsgroupsheaderid
+retval
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgcompfields
+setnewshost
+value
+setasciiheader
+msgnewsposturlheaderid
+value
+nsimethodimp
+nsmsgcompfields
+getnewshost
+retval
+retval
+nscrt
+strdup
+getasciiheader
+msgnewsposturlheaderid
+retval
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgcompfields
+setfollowupto
+value
+setasciiheader
+msgfollowuptoheaderid
+value
+nsimethodimp
+nsmsgcompfields
+getfollowupto
+retval
+retval
+nscrt
+strdup
+getasciiheader
+msgfollowuptoheaderid
+retval
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgcompfields
+setsubject
+prunichar
+value
+setunicodeheader
+msgsubjectheaderid
+value
+nsimethodimp
+nsmsgcompfields
+getsubject
+prunichar
+retval
+getunicodeheader
+msgsubjectheaderid
+retval
+nsimethodimp
+nsmsgcompfields
+setattachments
+value
+nsassertion
+nsmsgcompfields
+setattachments
+is
+supported
+anymore
+please
+use
+nsmsgcompfields
+addattachment
+setasciiheader
+msgattachmentsheaderid
+value
+nsimethodimp
+nsmsgcompfields
+settemporaryfiles
+value
+nsassertion
+nsmsgcompfields
+settemporaryfiles
+is
+supported
+anymore
+please
+use
+nsmsgcompfields
+addattachment
+setasciiheader
+msgtemporaryfilesheaderid
+value
+nsimethodimp
+nsmsgcompfields
+getattachments
+retval
+nsassertion
+nsmsgcompfields
+getattachments
+is
+supported
+anymore
+please
+use
+nsmsgcompfields
+getattachmentsarray
+retval
+nscrt
+strdup
+getasciiheader
+msgattachmentsheaderid
+retval
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgcompfields
+gettemporaryfiles
+retval
+retval
+nscrt
+strdup
+getasciiheader
+msgtemporaryfilesheaderid
+retval
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgcompfields
+setorganization
+prunichar
+value
+setunicodeheader
+msgorganizationheaderid
+value
+nsimethodimp
+nsmsgcompfields
+getorganization
+prunichar
+retval
+getunicodeheader
+msgorganizationheaderid
+retval
+nsimethodimp
+nsmsgcompfields
+setreferences
+value
+setasciiheader
+msgreferencesheaderid
+value
+nsimethodimp
+nsmsgcompfields
+getreferences
+retval
+retval
+nscrt
+strdup
+getasciiheader
+msgreferencesheaderid
+retval
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgcompfields
+setotherrandomheaders
+prunichar
+value
+setunicodeheader
+msgotherrandomheadersheaderid
+value
+nsimethodimp
+nsmsgcompfields
+getotherrandomheaders
+prunichar
+retval
+getunicodeheader
+msgotherrandomheadersheaderid
+retval
+nsimethodimp
+nsmsgcompfields
+setnewsposturl
+value
+setasciiheader
+msgnewsposturlheaderid
+value
+nsimethodimp
+nsmsgcompfields
+getnewsposturl
+retval
+retval
+nscrt
+strdup
+getasciiheader
+msgnewsposturlheaderid
+retval
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgcompfields
+setpriority
+value
+setasciiheader
+msgpriorityheaderid
+value
+nsimethodimp
+nsmsgcompfields
+getpriority
+retval
+retval
+nscrt
+strdup
+getasciiheader
+msgpriorityheaderid
+retval
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgcompfields
+setcharacterset
+value
+setasciiheader
+msgcharactersetheaderid
+value
+nsimethodimp
+nsmsgcompfields
+getcharacterset
+retval
+retval
+nscrt
+strdup
+getasciiheader
+msgcharactersetheaderid
+retval
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgcompfields
+setmessageid
+value
+setasciiheader
+msgmessageidheaderid
+value
+nsimethodimp
+nsmsgcompfields
+getmessageid
+retval
+retval
+nscrt
+strdup
+getasciiheader
+msgmessageidheaderid
+retval
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgcompfields
+settemplatename
+prunichar
+value
+setunicodeheader
+msgxtemplateheaderid
+value
+nsimethodimp
+nsmsgcompfields
+gettemplatename
+prunichar
+retval
+getunicodeheader
+msgxtemplateheaderid
+retval
+nsimethodimp
+nsmsgcompfields
+setdraftid
+value
+setasciiheader
+msgdraftidheaderid
+value
+nsimethodimp
+nsmsgcompfields
+getdraftid
+retval
+retval
+nscrt
+strdup
+getasciiheader
+msgdraftidheaderid
+retval
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgcompfields
+setreturnreceipt
+prbool
+value
+mreturnreceipt
+value
+nsok
+nsimethodimp
+nsmsgcompfields
+getreturnreceipt
+prbool
+retval
+retval
+mreturnreceipt
+nsok
+nsimethodimp
+nsmsgcompfields
+setreceiptheadertype
+print
+value
+mreceiptheadertype
+value
+nsok
+nsimethodimp
+nsmsgcompfields
+getreceiptheadertype
+print
+retval
+retval
+mreceiptheadertype
+nsok
+nsimethodimp
+nsmsgcompfields
+setattachvcard
+prbool
+value
+mattachvcard
+value
+nsok
+nsimethodimp
+nsmsgcompfields
+getattachvcard
+prbool
+retval
+retval
+mattachvcard
+nsok
+nsimethodimp
+nsmsgcompfields
+setforceplaintext
+prbool
+value
+mforceplaintext
+value
+nsok
+nsimethodimp
+nsmsgcompfields
+getforceplaintext
+prbool
+retval
+retval
+mforceplaintext
+nsok
+nsimethodimp
+nsmsgcompfields
+setusemultipartalternative
+prbool
+value
+musemultipartalternative
+value
+nsok
+nsimethodimp
+nsmsgcompfields
+getusemultipartalternative
+prbool
+retval
+retval
+musemultipartalternative
+nsok
+nsimethodimp
+nsmsgcompfields
+setuuencodeattachments
+prbool
+value
+muuencodeattachments
+value
+nsok
+nsimethodimp
+nsmsgcompfields
+getuuencodeattachments
+prbool
+retval
+retval
+muuencodeattachments
+nsok
+nsimethodimp
+nsmsgcompfields
+setbodyisasciionly
+prbool
+value
+mbodyisasciionly
+value
+nsok
+nsimethodimp
+nsmsgcompfields
+getbodyisasciionly
+prbool
+retval
+nsensureargpointer
+retval
+retval
+mbodyisasciionly
+nsok
+nsimethodimp
+nsmsgcompfields
+setbody
+prunichar
+value
+prfreeif
+mbody
+value
+cstring
+convertfromunicode
+minternalcharset
+get
+nsautostring
+value
+cstring
+mbody
+cstring
+mbody
+nserroroutofmemory
+nsok
+nsimethodimp
+nsmsgcompfields
+getbody
+prunichar
+retval
+nsstring
+unicodestr
+cstring
+getbody
+converttounicode
+minternalcharset
+get
+cstring
+unicodestr
+retval
+tonewunicode
+unicodestr
+nsok
+nsresult
+nsmsgcompfields
+setbody
+value
+prfreeif
+mbody
+value
+mbody
+nscrt
+strdup
+value
+mbody
+nserroroutofmemory
+nsok
+nsmsgcompfields
+getbody
+mbody
+mbody
+nsimethodimp
+nsmsgcompfields
+getattachmentsarray
+nsisupportsarray
+aattachmentsarray
+nsensureargpointer
+aattachmentsarray
+aattachmentsarray
+mattachments
+nsifaddref
+aattachmentsarray
+nsok
+nsimethodimp
+nsmsgcompfields
+addattachment
+nsimsgattachment
+attachment
+pruint
+pruint
+attachmentcount
+mattachments
+count
+attachmentcount
+nscomptr
+nsimsgattachment
+element
+prbool
+sameurl
+attachmentcount
+mattachments
+queryelementat
+nsgetiid
+nsimsgattachment
+getteraddrefs
+element
+element
+element
+equalsurl
+attachment
+sameurl
+sameurl
+nsok
+mattachments
+insertelementat
+attachment
+attachmentcount
+nsimethodimp
+nsmsgcompfields
+removeattachment
+nsimsgattachment
+attachment
+pruint
+pruint
+attachmentcount
+mattachments
+count
+attachmentcount
+nscomptr
+nsimsgattachment
+element
+prbool
+sameurl
+attachmentcount
+mattachments
+queryelementat
+nsgetiid
+nsimsgattachment
+getteraddrefs
+element
+element
+element
+equalsurl
+attachment
+sameurl
+sameurl
+mattachments
+deleteelementat
+nsok
+nsimethodimp
+nsmsgcompfields
+removeattachments
+pruint
+pruint
+attachmentcount
+mattachments
+count
+attachmentcount
+attachmentcount
+mattachments
+deleteelementat
+nsok
+nsimethodimp
+nsmsgcompfields
+splitrecipients
+prunichar
+recipients
+prbool
+emailaddressonly
+nsimsgrecipientarray
+retval
+nsassertion
+recipients
+the
+recipient
+list
+is
+supposed
+to
+be
+fix
+the
+caller
+nsresult
+rv
+nsok
+retval
+nserrornullpointer
+retval
+nsnull
+nsmsgrecipientarray
+paddrarray
+nsmsgrecipientarray
+paddrarray
+nserroroutofmemory
+rv
+paddrarray
+queryinterface
+nsgetiid
+nsimsgrecipientarray
+retval
+nssucceeded
+rv
+nscomptr
+nsimsgheaderparser
+parser
+dogetservice
+nsmailnewsmimeheaderparsercontractid
+parser
+recipientsstr
+names
+addresses
+pruint
+numaddresses
+nsfailed
+convertfromunicode
+msgcompheaderinternalcharset
+nsautostring
+recipients
+recipientsstr
+recipientsstr
+tonewcstring
+nsdependentstring
+recipients
+recipientsstr
+nserroroutofmemory
+rv
+parser
+parseheaderaddresses
+msgcompheaderinternalcharset
+recipientsstr
+names
+addresses
+numaddresses
+nssucceeded
+rv
+pruint
+pnames
+names
+paddresses
+addresses
+fulladdress
+nsstring
+arecipient
+prbool
+abool
+numaddresses
+emailaddressonly
+rv
+parser
+makefulladdress
+msgcompheaderinternalcharset
+pnames
+paddresses
+fulladdress
+nssucceeded
+rv
+emailaddressonly
+rv
+converttounicode
+msgcompheaderinternalcharset
+fulladdress
+arecipient
+prfreeif
+fulladdress
+rv
+converttounicode
+msgcompheaderinternalcharset
+paddresses
+arecipient
+nsfailed
+rv
+rv
+paddrarray
+appendstring
+arecipient
+get
+abool
+nsfailed
+rv
+pnames
+plstrlen
+pnames
+paddresses
+plstrlen
+paddresses
+prfreeif
+names
+prfreeif
+addresses
+prfree
+recipientsstr
+rv
+nserrorfailure
+rv
+nsresult
+nsmsgcompfields
+splitrecipientsex
+prunichar
+recipients
+nsimsgrecipientarray
+fulladdrsarray
+nsimsgrecipientarray
+emailsarray
+nsassertion
+recipients
+the
+recipient
+list
+is
+supposed
+to
+be
+fix
+the
+caller
+nsresult
+rv
+nsok
+nsmsgrecipientarray
+paddrsarray
+nsnull
+fulladdrsarray
+fulladdrsarray
+nsnull
+paddrsarray
+nsmsgrecipientarray
+paddrsarray
+nserroroutofmemory
+rv
+paddrsarray
+queryinterface
+nsgetiid
+nsimsgrecipientarray
+fulladdrsarray
+nsfailed
+rv
+rv
+nsmsgrecipientarray
+pemailsarray
+nsnull
+emailsarray
+emailsarray
+nsnull
+pemailsarray
+nsmsgrecipientarray
+pemailsarray
+nserroroutofmemory
+rv
+pemailsarray
+queryinterface
+nsgetiid
+nsimsgrecipientarray
+emailsarray
+nsfailed
+rv
+rv
+paddrsarray
+pemailsarray
+nscomptr
+nsimsgheaderparser
+parser
+dogetservice
+nsmailnewsmimeheaderparsercontractid
+parser
+recipientsstr
+names
+addresses
+pruint
+numaddresses
+nsfailed
+convertfromunicode
+msgcompheaderinternalcharset
+nsautostring
+recipients
+recipientsstr
+recipientsstr
+tonewcstring
+nsdependentstring
+recipients
+recipientsstr
+nserroroutofmemory
+rv
+parser
+parseheaderaddresses
+msgcompheaderinternalcharset
+recipientsstr
+names
+addresses
+numaddresses
+nssucceeded
+rv
+pruint
+pnames
+names
+paddresses
+addresses
+fulladdress
+nsstring
+arecipient
+prbool
+abool
+numaddresses
+paddrsarray
+rv
+parser
+makefulladdress
+msgcompheaderinternalcharset
+pnames
+paddresses
+fulladdress
+nssucceeded
+rv
+rv
+converttounicode
+msgcompheaderinternalcharset
+fulladdress
+arecipient
+prfreeif
+fulladdress
+rv
+converttounicode
+msgcompheaderinternalcharset
+paddresses
+arecipient
+nsfailed
+rv
+rv
+rv
+paddrsarray
+appendstring
+arecipient
+get
+abool
+nsfailed
+rv
+rv
+pemailsarray
+rv
+converttounicode
+msgcompheaderinternalcharset
+paddresses
+arecipient
+nsfailed
+rv
+rv
+rv
+pemailsarray
+appendstring
+arecipient
+get
+abool
+nsfailed
+rv
+rv
+pnames
+plstrlen
+pnames
+paddresses
+plstrlen
+paddresses
+prfreeif
+names
+prfreeif
+addresses
+prfree
+recipientsstr
+rv
+nserrorfailure
+rv
+nsimethodimp
+nsmsgcompfields
+convertbodytoplaintext
+nsresult
+rv
+nsok
+mbody
+mbody
+prunichar
+ubody
+rv
+getbody
+ubody
+nssucceeded
+rv
+nsstring
+body
+ubody
+prfree
+ubody
+rv
+convertbuftoplaintext
+body
+useformatflowed
+getcharacterset
+nssucceeded
+rv
+rv
+setbody
+body
+get
+rv
+nsimethodimp
+nsmsgcompfields
+getsecurityinfo
+nsisupports
+asecurityinfo
+nsensureargpointer
+asecurityinfo
+asecurityinfo
+msecurecompfields
+nsifaddref
+asecurityinfo
+nsok
+nsimethodimp
+nsmsgcompfields
+setsecurityinfo
+nsisupports
+asecurityinfo
+msecurecompfields
+asecurityinfo
+nsok
+nsimethodimp
+nsmsgcompfields
+getdefaultcharacterset
+adefaultcharacterset
+nsensureargpointer
+adefaultcharacterset
+adefaultcharacterset
+nscrt
+strdup
+mdefaultcharacterset
+get
+adefaultcharacterset
+nsok
+nserroroutofmemory
+nsimethodimp
+nsmsgcompfields
+checkcharsetconversion
+fallbackcharset
+prbool
+retval
+nsensureargpointer
+retval
+nscautostring
+headers
+print
+msgmaxheaders
+headers
+append
+mheaders
+retval
+nsmsgincheckdataincharsetrange
+getcharacterset
+nsconvertutftoucs
+headers
+get
+get
+fallbackcharset
+nsok
\ No newline at end of file
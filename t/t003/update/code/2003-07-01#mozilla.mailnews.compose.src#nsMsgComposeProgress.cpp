@@ -0,0 +1,432 @@
+nsmsgcomposeprogress
+nsiscriptglobalobject
+nsibasewindow
+nsidocshell
+nsidocshelltreeitem
+nsidocshelltreeowner
+nsisupportsarray
+nsxpcom
+nsisupportsprimitives
+nsicomponentmanager
+nsimplisupports
+nsmsgcomposeprogress
+nsimsgcomposeprogress
+nsmsgcomposeprogress
+nsmsgcomposeprogress
+mcloseprogress
+prfalse
+mprocesscanceled
+prfalse
+mpendingstateflags
+mpendingstatevalue
+nsmsgcomposeprogress
+nsmsgcomposeprogress
+releaselisteners
+nsimethodimp
+nsmsgcomposeprogress
+openprogress
+nsidomwindowinternal
+parent
+prunichar
+subject
+prbool
+itsasaveoperation
+nsresult
+rv
+nserrorfailure
+mdialog
+nserroralreadyinitialized
+parent
+nscomptr
+nsisupportsarray
+array
+rv
+nsnewisupportsarray
+getteraddrefs
+array
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupportsstring
+strptr
+docreateinstance
+nssupportsstringcontractid
+rv
+nsensuresuccess
+rv
+rv
+strptr
+setdata
+nsdependentstring
+subject
+array
+appendelement
+strptr
+nscomptr
+nsisupportsprbool
+boolptr
+docreateinstance
+nssupportsprboolcontractid
+rv
+nsensuresuccess
+rv
+rv
+boolptr
+setdata
+itsasaveoperation
+array
+appendelement
+boolptr
+nscomptr
+nsisupportsinterfacepointer
+ifptr
+docreateinstance
+nssupportsinterfacepointercontractid
+rv
+nsensuresuccess
+rv
+rv
+ifptr
+setdata
+ifptr
+setdataiid
+nsgetiid
+nsimsgcomposeprogress
+array
+appendelement
+ifptr
+nscomptr
+nsidomwindow
+newwindow
+rv
+parent
+opendialog
+nsliteralstring
+messenger
+content
+messengercompose
+sendprogress
+xul
+nsliteralstring
+blank
+nsliteralstring
+titlebar
+dependent
+array
+getteraddrefs
+newwindow
+rv
+nsimethodimp
+nsmsgcomposeprogress
+closeprogress
+prbool
+forceclose
+mcloseprogress
+prtrue
+onstatechange
+nsnull
+nsnull
+nsiwebprogresslistener
+statestop
+forceclose
+nsimethodimp
+nsmsgcomposeprogress
+getprompter
+nsiprompt
+retval
+nsensureargpointer
+retval
+retval
+nsnull
+mcloseprogress
+mdialog
+mdialog
+getprompter
+retval
+nserrorfailure
+nsimethodimp
+nsmsgcomposeprogress
+getprocesscanceledbyuser
+prbool
+aprocesscanceledbyuser
+nsensureargpointer
+aprocesscanceledbyuser
+aprocesscanceledbyuser
+mprocesscanceled
+nsok
+nsimethodimp
+nsmsgcomposeprogress
+setprocesscanceledbyuser
+prbool
+aprocesscanceledbyuser
+mprocesscanceled
+aprocesscanceledbyuser
+onstatechange
+nsnull
+nsnull
+nsiwebprogresslistener
+statestop
+prfalse
+nsok
+nsimethodimp
+nsmsgcomposeprogress
+registerlistener
+nsiwebprogresslistener
+listener
+nsresult
+rv
+nsok
+listener
+nsok
+mlistenerlist
+rv
+nsnewisupportsarray
+getteraddrefs
+mlistenerlist
+nssucceeded
+rv
+mlistenerlist
+mlistenerlist
+appendelement
+listener
+mcloseprogress
+mprocesscanceled
+listener
+onstatechange
+nsnull
+nsnull
+nsiwebprogresslistener
+statestop
+listener
+onstatuschange
+nsnull
+nsnull
+mpendingstatus
+get
+mpendingstateflags
+listener
+onstatechange
+nsnull
+nsnull
+mpendingstateflags
+mpendingstatevalue
+nsok
+nsimethodimp
+nsmsgcomposeprogress
+unregisterlistener
+nsiwebprogresslistener
+listener
+mlistenerlist
+listener
+mlistenerlist
+removeelement
+listener
+nsok
+nsimethodimp
+nsmsgcomposeprogress
+onstatechange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+print
+astateflags
+pruint
+astatus
+nsresult
+rv
+nsok
+mpendingstateflags
+astateflags
+mpendingstatevalue
+astatus
+mlistenerlist
+pruint
+count
+print
+rv
+mlistenerlist
+count
+count
+nsassertion
+nssucceeded
+rv
+mlistenerlist
+count
+failed
+nscomptr
+nsisupports
+asupports
+nscomptr
+nsiwebprogresslistener
+aprogresslistener
+count
+mlistenerlist
+getelementat
+getteraddrefs
+asupports
+aprogresslistener
+doqueryinterface
+asupports
+aprogresslistener
+aprogresslistener
+onstatechange
+awebprogress
+arequest
+astateflags
+astatus
+nsok
+nsimethodimp
+nsmsgcomposeprogress
+onprogresschange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+print
+acurselfprogress
+print
+amaxselfprogress
+print
+acurtotalprogress
+print
+amaxtotalprogress
+nsresult
+rv
+nsok
+mlistenerlist
+pruint
+count
+print
+rv
+mlistenerlist
+count
+count
+nsassertion
+nssucceeded
+rv
+mlistenerlist
+count
+failed
+nscomptr
+nsisupports
+asupports
+nscomptr
+nsiwebprogresslistener
+aprogresslistener
+count
+mlistenerlist
+getelementat
+getteraddrefs
+asupports
+aprogresslistener
+doqueryinterface
+asupports
+aprogresslistener
+aprogresslistener
+onprogresschange
+awebprogress
+arequest
+acurselfprogress
+amaxselfprogress
+acurtotalprogress
+amaxtotalprogress
+nsok
+nsimethodimp
+nsmsgcomposeprogress
+onlocationchange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+nsiuri
+location
+nsok
+nsimethodimp
+nsmsgcomposeprogress
+onstatuschange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+nsresult
+astatus
+prunichar
+amessage
+nsresult
+rv
+mpendingstatus
+amessage
+mlistenerlist
+pruint
+count
+print
+rv
+mlistenerlist
+count
+count
+nsassertion
+nssucceeded
+rv
+mlistenerlist
+count
+failed
+nscomptr
+nsisupports
+asupports
+nscomptr
+nsiwebprogresslistener
+aprogresslistener
+count
+mlistenerlist
+getelementat
+getteraddrefs
+asupports
+aprogresslistener
+doqueryinterface
+asupports
+aprogresslistener
+aprogresslistener
+onstatuschange
+awebprogress
+arequest
+astatus
+amessage
+nsok
+nsimethodimp
+nsmsgcomposeprogress
+onsecuritychange
+nsiwebprogress
+awebprogress
+nsirequest
+arequest
+pruint
+state
+nsok
+nsresult
+nsmsgcomposeprogress
+releaselisteners
+nsresult
+rv
+nsok
+mlistenerlist
+pruint
+count
+print
+rv
+mlistenerlist
+count
+count
+nsassertion
+nssucceeded
+rv
+mlistenerlist
+count
+failed
+nssucceeded
+rv
+count
+mlistenerlist
+removeelementat
+rv nsresult
\ No newline at end of file
@@ -0,0 +1,49 @@
+nsmsgcomposeprogressparams
+nsreadableutils
+nsimplisupports
+nsmsgcomposeprogressparams
+nsimsgcomposeprogressparams
+nsmsgcomposeprogressparams
+nsmsgcomposeprogressparams
+mdeliverymode
+nsimsgcompdelivermode
+now
+nsmsgcomposeprogressparams
+nsmsgcomposeprogressparams
+nsimethodimp
+nsmsgcomposeprogressparams
+getsubject
+prunichar
+asubject
+nsensurearg
+asubject
+asubject
+tonewunicode
+msubject
+nsok
+nsimethodimp
+nsmsgcomposeprogressparams
+setsubject
+prunichar
+asubject
+msubject
+asubject
+nsok
+nsimethodimp
+nsmsgcomposeprogressparams
+getdeliverymode
+msgdelivermode
+adeliverymode
+nsensurearg
+adeliverymode
+adeliverymode
+mdeliverymode
+nsok
+nsimethodimp
+nsmsgcomposeprogressparams
+setdeliverymode
+msgdelivermode
+adeliverymode
+mdeliverymode
+adeliverymode
+nsok
\ No newline at end of file
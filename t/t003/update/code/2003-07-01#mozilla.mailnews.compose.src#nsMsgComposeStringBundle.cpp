@@ -0,0 +1,97 @@
+msgcore
+prprf
+prmem
+nscomptr
+nsstring
+nsistringbundle
+nsmsgcomposestringbundle
+nsiservicemanager
+nsiuri
+nscomposestringservice
+nscomposestringservice
+nscomposestringservice
+nscomposestringservice
+nsimplthreadsafeaddref
+nscomposestringservice
+nsimplthreadsaferelease
+nscomposestringservice
+nsinterfacemapbegin
+nscomposestringservice
+nsinterfacemapentryambiguous
+nsisupports
+nsimsgstringservice
+nsinterfacemapentry
+nsimsgstringservice
+nsinterfacemapend
+nsimethodimp
+nscomposestringservice
+getstringbyid
+print
+astringid
+prunichar
+astring
+nsresult
+rv
+nsok
+mcomposestringbundle
+rv
+initializestringbundle
+nsensuretrue
+mcomposestringbundle
+nserrorunexpected
+nsismsgerror
+astringid
+astringid
+nserrorgetcode
+astringid
+nsensuresuccess
+mcomposestringbundle
+getstringfromid
+astringid
+astring
+nserrorunexpected
+rv
+nsimethodimp
+nscomposestringservice
+getbundle
+nsistringbundle
+aresult
+nsensureargpointer
+aresult
+nsresult
+rv
+nsok
+mcomposestringbundle
+rv
+initializestringbundle
+nsensuresuccess
+rv
+rv
+aresult
+mcomposestringbundle
+nsifaddref
+aresult
+nsok
+nsresult
+nscomposestringservice
+initializestringbundle
+nscomptr
+nsistringbundleservice
+stringservice
+dogetservice
+nsstringbundlecontractid
+nsensuretrue
+stringservice
+nserrorfailure
+nsensuresuccess
+stringservice
+createbundle
+messenger
+locale
+messengercompose
+composemsgs
+properties
+getteraddrefs
+mcomposestringbundle
+nserrorfailure
+nsok
\ No newline at end of file
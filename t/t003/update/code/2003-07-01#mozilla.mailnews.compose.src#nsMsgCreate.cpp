@@ -0,0 +1,283 @@
+nscomptr
+nsiurl
+nsieventqueueservice
+nsiinputstream
+nsioutputstream
+nsigenericfactory
+nsiservicemanager
+nsistreamlistener
+nsistreamconverter
+nsichannel
+nsimimestreamconverter
+nsfilestream
+nsfilespec
+nsmimetypes
+nsipref
+nsicharsetconvertermanager
+prprf
+nsmsgcreate
+nsmsgcomputils
+nsimsgmessageservice
+nsmsgutils
+nsmsgdeliverylistener
+nsimsgaccountmanager
+nsimsgidentity
+nsienumerator
+nsmsgbasecid
+nsmsgcopy
+nsnetutil
+nsmsgmimecid
+nsimsgmailnewsurl
+nsmsgbasecid
+nsdefinecid
+kprefcid
+nsprefcid
+nsmsgdraft
+nsmsgdraft
+muri
+nsnull
+mmessageservice
+nsnull
+mouttype
+nsmimeoutput
+nsmimemessagedraftortemplate
+maddinlineheaders
+prfalse
+nsmsgdraft
+nsmsgdraft
+mmessageservice
+nsnull
+prfreeif
+muri
+nsimplisupports
+nsmsgdraft
+nsimsgdraft
+nsresult
+nsmsgdraft
+processdraftortemplateoperation
+msguri
+nsmimeoutputtype
+aouttype
+nsimsgidentity
+identity
+originalmsguri
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+mouttype
+aouttype
+msguri
+nserrorinvalidarg
+muri
+nscrt
+strdup
+msguri
+muri
+nserroroutofmemory
+rv
+getmessageservicefromuri
+muri
+getteraddrefs
+mmessageservice
+nsfailed
+rv
+mmessageservice
+rv
+nsaddref
+nscomptr
+nsistreamconverter
+mimeparser
+mimeparser
+docreateinstance
+nsmailnewsmimestreamconvertercontractid
+rv
+nsfailed
+rv
+release
+mmessageservice
+nsnull
+ifdef
+nsdebug
+printf
+failed
+to
+create
+mime
+stream
+converter
+endif
+rv
+nscomptr
+nsimimestreamconverter
+mimeconverter
+doqueryinterface
+mimeparser
+mimeconverter
+mimeconverter
+setmimeoutputtype
+mouttype
+mimeconverter
+setforwardinline
+maddinlineheaders
+mimeconverter
+setidentity
+identity
+mimeconverter
+setoriginalmsguri
+originalmsguri
+nscomptr
+nsistreamlistener
+convertedlistener
+doqueryinterface
+mimeparser
+convertedlistener
+release
+mmessageservice
+nsnull
+ifdef
+nsdebug
+printf
+unable
+to
+get
+the
+nsistreamlistener
+from
+libmime
+endif
+nserrorunexpected
+nscomptr
+nsiuri
+aurl
+rv
+mmessageservice
+geturlforuri
+muri
+getteraddrefs
+aurl
+amsgwindow
+aurl
+aurl
+setspec
+nsdependentcstring
+muri
+nsxpidlcstring
+mailcharset
+amsgwindow
+prbool
+charsetoverride
+nssucceeded
+amsgwindow
+getcharsetoverride
+charsetoverride
+charsetoverride
+nssucceeded
+amsgwindow
+getmailcharacterset
+gettercopies
+mailcharset
+nscomptr
+nsimsginurl
+inurl
+doqueryinterface
+aurl
+inurl
+inurl
+setcharsetoverride
+mailcharset
+get
+nscomptr
+nsichannel
+dummychannel
+rv
+nsnewinputstreamchannel
+getteraddrefs
+dummychannel
+aurl
+nsnull
+nsfailed
+mimeparser
+asyncconvertdata
+nsnull
+nsnull
+nsnull
+dummychannel
+release
+mmessageservice
+nsnull
+ifdef
+nsdebug
+printf
+unable
+to
+set
+the
+output
+stream
+the
+mime
+parser
+ncould
+be
+failure
+to
+create
+internal
+libmime
+data
+endif
+nserrorunexpected
+rv
+mmessageservice
+displaymessage
+muri
+convertedlistener
+amsgwindow
+nsnull
+mailcharset
+nsnull
+mmessageservice
+nsnull
+release
+nsfailed
+rv
+rv
+nsok
+nsresult
+nsmsgdraft
+opendraftmsg
+msguri
+originalmsguri
+nsimsgidentity
+identity
+prbool
+addinlineheaders
+nsimsgwindow
+amsgwindow
+msguri
+nserrorfailure
+maddinlineheaders
+addinlineheaders
+processdraftortemplateoperation
+msguri
+nsmimeoutput
+nsmimemessagedraftortemplate
+identity
+originalmsguri
+amsgwindow
+nsresult
+nsmsgdraft
+openeditortemplate
+msguri
+nsimsgidentity
+identity
+nsimsgwindow
+amsgwindow
+processdraftortemplateoperation
+msguri
+nsmimeoutput
+nsmimemessageeditortemplate
+identity
+nsnull
+amsgwindow
\ No newline at end of file
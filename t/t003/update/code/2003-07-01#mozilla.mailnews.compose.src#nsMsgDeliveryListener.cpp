@@ -0,0 +1,121 @@
+nsmsgdeliverylistener
+nsimsgmailnewsurl
+nsmsgprompts
+nsimplisupports
+nsmsgdeliverylistener
+nsiurllistener
+nsresult
+nsmsgdeliverylistener
+onstartrunningurl
+nsiuri
+aurl
+ifdef
+nsdebug
+endif
+mmsgsendobj
+mmsgsendobj
+notifylisteneronstartsending
+nsnull
+nsnull
+mmsgsendlaterobj
+mmsgsendlaterobj
+notifylistenersonstartsending
+nsnull
+nsok
+nsresult
+nsmsgdeliverylistener
+onstoprunningurl
+nsiuri
+aurl
+nsresult
+aexitcode
+nsresult
+rv
+nserrorunexpected
+ifdef
+nsdebug
+endif
+aurl
+nscomptr
+nsimsgmailnewsurl
+mailurl
+doqueryinterface
+aurl
+mailurl
+mailurl
+unregisterlistener
+mmsgsendobj
+mmsgsendobj
+notifylisteneronstopsending
+nsnull
+aexitcode
+nsnull
+nsnull
+mmsgsendlaterobj
+mmsgsendlaterobj
+notifylistenersonstopsending
+aexitcode
+nsnull
+nsnull
+nsnull
+mcompletioncallback
+rv
+mcompletioncallback
+aurl
+aexitcode
+mdeliverytype
+mtagdata
+rv
+nsok
+rv
+nsmsgdeliverylistener
+nsmsgdeliverylistener
+nsmsgdeliverycompletioncallback
+callback
+nsmsgdeliverytype
+delivtype
+nsisupports
+tagdata
+defined
+debugducarroz
+printf
+create
+nsmsgdeliverylistener
+endif
+mtempfilespec
+nsnull
+mdeliverytype
+delivtype
+mtagdata
+tagdata
+mcompletioncallback
+callback
+mmsgsendobj
+nsnull
+mmsgsendlaterobj
+nsnull
+nsmsgdeliverylistener
+nsmsgdeliverylistener
+defined
+debugducarroz
+printf
+dispose
+nsmsgdeliverylistener
+endif
+mtempfilespec
+nsresult
+nsmsgdeliverylistener
+setmsgcomposeandsendobject
+nsimsgsend
+obj
+mmsgsendobj
+obj
+nsok
+nsresult
+nsmsgdeliverylistener
+setmsgsendlaterobject
+nsmsgsendlater
+obj
+mmsgsendlaterobj
+obj
+nsok
\ No newline at end of file
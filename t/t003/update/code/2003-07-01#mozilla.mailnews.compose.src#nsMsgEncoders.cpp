@@ -0,0 +1,192 @@
+prprf
+prmem
+nscomptr
+nsistringbundle
+nsmsgcomposestringbundle
+nsiservicemanager
+nsmsgmimecid
+nsimimeconverter
+mimeencoderdata
+mimebencoderinit
+nsresult
+outputfn
+buf
+print
+size
+closure
+closure
+mimeencoderdata
+returnencoderdata
+nsnull
+nsimimeconverter
+converter
+nsresult
+res
+nscomponentmanager
+createinstance
+nsmimeconvertercontractid
+nsnull
+nsgetiid
+nsimimeconverter
+converter
+nssucceeded
+res
+nsnull
+converter
+res
+converter
+bencoderinit
+outputfn
+closure
+returnencoderdata
+nsrelease
+converter
+nssucceeded
+res
+returnencoderdata
+nsnull
+mimeencoderdata
+mimeqpencoderinit
+nsresult
+outputfn
+buf
+print
+size
+closure
+closure
+mimeencoderdata
+returnencoderdata
+nsnull
+nsimimeconverter
+converter
+nsresult
+res
+nscomponentmanager
+createinstance
+nsmimeconvertercontractid
+nsnull
+nsgetiid
+nsimimeconverter
+converter
+nssucceeded
+res
+nsnull
+converter
+res
+converter
+qpencoderinit
+outputfn
+closure
+returnencoderdata
+nsrelease
+converter
+nssucceeded
+res
+returnencoderdata
+nsnull
+mimeencoderdata
+mimeuuencoderinit
+filename
+nsresult
+outputfn
+buf
+print
+size
+closure
+closure
+mimeencoderdata
+returnencoderdata
+nsnull
+nsimimeconverter
+converter
+nsresult
+res
+nscomponentmanager
+createinstance
+nsmimeconvertercontractid
+nsnull
+nsgetiid
+nsimimeconverter
+converter
+nssucceeded
+res
+nsnull
+converter
+res
+converter
+uuencoderinit
+filename
+outputfn
+closure
+returnencoderdata
+nsrelease
+converter
+nssucceeded
+res
+returnencoderdata
+nsnull
+nsresult
+mimeencoderdestroy
+mimeencoderdata
+data
+prbool
+abortp
+nsimimeconverter
+converter
+nsresult
+res
+nscomponentmanager
+createinstance
+nsmimeconvertercontractid
+nsnull
+nsgetiid
+nsimimeconverter
+converter
+nssucceeded
+res
+nsnull
+converter
+res
+converter
+encoderdestroy
+data
+abortp
+nsrelease
+converter
+nssucceeded
+res
+nsresult
+mimeencoderwrite
+mimeencoderdata
+data
+buffer
+print
+size
+nsimimeconverter
+converter
+print
+written
+nsresult
+res
+nscomponentmanager
+createinstance
+nsmimeconvertercontractid
+nsnull
+nsgetiid
+nsimimeconverter
+converter
+nssucceeded
+res
+nsnull
+converter
+res
+converter
+encoderwrite
+data
+buffer
+size
+written
+nsrelease
+converter
+nssucceeded
+res
\ No newline at end of file
@@ -0,0 +1,936 @@
+nsmsglocalfolderhdrs
+nsmsgsend
+nsmsgsendpart
+nsimimeconverter
+nsfilestream
+nscomptr
+nsicomponentmanager
+nsmsgencoders
+nsmsgin
+nsmsgcomputils
+nsfilestream
+nsmsgmimecid
+nsmimetypes
+prmem
+nsmsgprompts
+nsmsgcomposestringbundle
+mimemailtostreamreadbuffer
+print
+nsmsgsendpart
+mcounter
+nsmsgsendpart
+nsmsgsendpart
+nsimsgsend
+state
+partcharset
+mstate
+nsnull
+plstrncpy
+mcharsetname
+partcharset
+partcharset
+us
+ascii
+mcharsetname
+mcharsetname
+mcharsetname
+mchildren
+nsnull
+mnumchildren
+setmimedeliverystate
+state
+mparent
+nsnull
+mfilespec
+nsnull
+mbuffer
+nsnull
+mtype
+nsnull
+mother
+nsnull
+mstripsensitiveheaders
+prfalse
+mencoderdata
+nsnull
+mfirstblock
+prfalse
+mneedintlconversion
+prfalse
+mmainpart
+prfalse
+mjusthitcr
+prfalse
+nsmsgsendpart
+nsmsgsendpart
+mencoderdata
+mimeencoderdestroy
+mencoderdata
+prfalse
+mencoderdata
+nsnull
+mnumchildren
+mchildren
+mchildren
+prfreeif
+mbuffer
+prfreeif
+mother
+mfilespec
+mfilespec
+prfreeif
+mtype
+nsmsgsendpart
+copystring
+dest
+src
+nsassertion
+src
+src
+prfreeif
+dest
+src
+dest
+plstrdup
+dest
+plstrdup
+src
+dest
+nserroroutofmemory
+nsmsgsendpart
+setfile
+nsfilespec
+filename
+mfilespec
+nsfilespec
+filename
+mfilespec
+nserroroutofmemory
+nsok
+nsmsgsendpart
+setbuffer
+buffer
+prfreeif
+mbuffer
+copystring
+mbuffer
+buffer
+nsmsgsendpart
+settype
+type
+prfreeif
+mtype
+mtype
+plstrdup
+type
+mtype
+nserroroutofmemory
+nsmsgsendpart
+setotherheaders
+other
+copystring
+mother
+other
+nsmsgsendpart
+setmimedeliverystate
+nsimsgsend
+state
+mstate
+state
+getnumchildren
+getnumchildren
+nsmsgsendpart
+part
+getchild
+part
+part
+setmimedeliverystate
+state
+nsmsgsendpart
+appendotherheaders
+more
+mother
+setotherheaders
+more
+more
+more
+tmp
+prmalloc
+plstrlen
+mother
+plstrlen
+more
+tmp
+nserroroutofmemory
+plstrcpy
+tmp
+mother
+plstrcat
+tmp
+more
+prfreeif
+mother
+mother
+tmp
+nsmsgsendpart
+setencoderdata
+mimeencoderdata
+data
+mencoderdata
+data
+nsmsgsendpart
+setmainpart
+prbool
+value
+mmainpart
+value
+nsmsgsendpart
+addchild
+nsmsgsendpart
+child
+mnumchildren
+nsmsgsendpart
+tmp
+nsmsgsendpart
+mnumchildren
+tmp
+nsnull
+nserroroutofmemory
+mnumchildren
+tmp
+mchildren
+mchildren
+mchildren
+tmp
+mchildren
+mnumchildren
+child
+child
+mparent
+nsmsgsendpart
+nsmsgsendpart
+detachchild
+print
+whichone
+nsmsgsendpart
+returnvalue
+nsnull
+nsassertion
+whichone
+whichone
+mnumchildren
+parameter
+out
+of
+range
+whichone
+whichone
+mnumchildren
+returnvalue
+mchildren
+whichone
+mnumchildren
+nsmsgsendpart
+tmp
+nsmsgsendpart
+mnumchildren
+tmp
+nsnull
+mnumchildren
+whichone
+tmp
+mchildren
+tmp
+mchildren
+mchildren
+mchildren
+tmp
+mnumchildren
+mchildren
+mchildren
+nsnull
+mnumchildren
+returnvalue
+returnvalue
+mparent
+nsnull
+returnvalue
+nsmsgsendpart
+nsmsgsendpart
+getchild
+print
+which
+nsassertion
+which
+which
+mnumchildren
+parameter
+out
+of
+range
+which
+which
+mnumchildren
+mchildren
+which
+nsnull
+nsmsgsendpart
+pushbody
+buffer
+print
+length
+status
+encodeddata
+buffer
+mencoderdata
+status
+mimeencoderwrite
+mencoderdata
+encodeddata
+length
+in
+encodeddata
+end
+in
+length
+buffer
+out
+buffer
+mimegetstreamwritebuffer
+buffer
+nserroroutofmemory
+nsassertion
+encodeddata
+buffer
+encodeddata
+buffer
+out
+buffer
+in
+end
+in
+mjusthitcr
+mjusthitcr
+prfalse
+in
+nscrt
+lf
+in
+nscrt
+cr
+in
+nscrt
+lf
+out
+nscrt
+cr
+out
+nscrt
+lf
+status
+mimewritemessagebody
+mstate
+buffer
+out
+buffer
+status
+status
+out
+buffer
+in
+nscrt
+cr
+mjusthitcr
+prtrue
+out
+buffer
+out
+buffer
+mimebuffersize
+status
+mimewritemessagebody
+mstate
+buffer
+out
+buffer
+status
+status
+out
+buffer
+out
+in
+out
+buffer
+status
+mimewritemessagebody
+mstate
+buffer
+out
+buffer
+status
+status
+out
+buffer
+encodeddata
+encodeddata
+buffer
+prfree
+encodeddata
+status
+dividecontentheaders
+headers
+messageheaders
+contentheaders
+contenttypeheader
+tail
+messagetail
+contenttail
+typetail
+headers
+plstrlen
+headers
+messageheaders
+prmalloc
+messageheaders
+nserroroutofmemory
+contentheaders
+prmalloc
+contentheaders
+prfree
+messageheaders
+nserroroutofmemory
+contenttypeheader
+prmalloc
+contenttypeheader
+prfree
+messageheaders
+prfree
+contentheaders
+nserroroutofmemory
+messagetail
+messageheaders
+contenttail
+contentheaders
+typetail
+contenttypeheader
+tail
+headers
+tail
+head
+tail
+out
+prtrue
+tail
+tail
+nscrt
+cr
+tail
+nscrt
+lf
+tail
+tail
+tail
+nscrt
+lf
+tail
+nscrt
+cr
+tail
+nscrt
+lf
+tail
+tail
+tail
+tail
+plstrncasecmp
+head
+content
+type
+out
+typetail
+plstrncasecmp
+head
+content
+out
+contenttail
+out
+messagetail
+memcpy
+out
+head
+tail
+head
+out
+tail
+head
+messagetail
+contenttail
+typetail
+messageheaders
+prfree
+messageheaders
+messageheaders
+contentheaders
+prfree
+contentheaders
+contentheaders
+contenttypeheader
+prfree
+contenttypeheader
+contenttypeheader
+ifdef
+debug
+tmp
+contenttypeheader
+tmp
+plstrstr
+contenttypeheader
+content
+type
+tmp
+tmp
+nsassertion
+plstrstr
+tmp
+content
+type
+content
+part
+already
+present
+contentheaders
+tmp
+plstrstr
+contentheaders
+content
+transfer
+encoding
+tmp
+tmp
+nsassertion
+plstrstr
+tmp
+content
+transfer
+encoding
+content
+transfert
+already
+present
+endif
+define
+skipemptypart
+nsmsgsendpart
+write
+status
+separator
+nsnull
+define
+pushlen
+str
+length
+status
+mimewritemessagebody
+mstate
+str
+length
+status
+fail
+define
+push
+str
+pushlen
+str
+plstrlen
+str
+mparent
+mnumchildren
+mbuffer
+mbuffer
+mfilespec
+mmainpart
+skipemptypart
+mmainpart
+mtype
+plstrcmp
+mtype
+texthtml
+mfilespec
+nsassertion
+mbuffer
+nsnull
+buffer
+print
+length
+mfilespec
+valid
+length
+mfilespec
+getfilesize
+mbuffer
+prmalloc
+length
+mbuffer
+nsinputfilestream
+file
+mfilespec
+file
+isopen
+length
+file
+read
+mbuffer
+length
+file
+close
+mbuffer
+length
+prfree
+mbuffer
+mparent
+mparent
+mtype
+plstrcasecmp
+mparent
+mtype
+multipartdigest
+mtype
+plstrcasecmp
+mtype
+messagerfc
+plstrcasecmp
+mtype
+messagenews
+messageheaders
+contentheaders
+contenttypeheader
+status
+dividecontentheaders
+mother
+messageheaders
+contentheaders
+contenttypeheader
+status
+fail
+messageheaders
+push
+messageheaders
+prfree
+messageheaders
+messageheaders
+mparent
+status
+mstate
+begincryptoencapsulation
+status
+fail
+contenttypeheader
+nsassertion
+mtype
+mtype
+ptr
+prbool
+needscharset
+mimetypeneedscharset
+mtype
+mtype
+textplain
+needscharset
+contenttypeheader
+prsmprintf
+content
+type
+charset
+crlf
+mtype
+mtype
+textplain
+mcharsetname
+contenttypeheader
+prsmprintf
+content
+type
+crlf
+mtype
+mtype
+textplain
+contenttypeheader
+contentheaders
+prfree
+contentheaders
+status
+nserroroutofmemory
+fail
+mnumchildren
+ct
+nsassertion
+mtype
+ptr
+separator
+separator
+mimemakeseparator
+separator
+status
+nserroroutofmemory
+fail
+plstrlen
+contenttypeheader
+contenttypeheader
+nscrt
+lf
+contenttypeheader
+contenttypeheader
+nscrt
+cr
+contenttypeheader
+ct
+prsmprintf
+boundary
+crlf
+contenttypeheader
+separator
+prfree
+contenttypeheader
+ct
+contentheaders
+prfree
+contentheaders
+status
+nserroroutofmemory
+fail
+contenttypeheader
+ct
+nsassertion
+contenttypeheader
+contenttypeheader
+ptr
+push
+contenttypeheader
+prfree
+contenttypeheader
+contenttypeheader
+contentheaders
+push
+contentheaders
+prfree
+contentheaders
+contentheaders
+push
+crlf
+mfirstblock
+prtrue
+mneedintlconversion
+mimetypeneedscharset
+mtype
+mbuffer
+status
+pushbody
+mbuffer
+plstrlen
+mbuffer
+status
+fail
+mfilespec
+nsinputfilestream
+mystream
+mfilespec
+mystream
+isopen
+nscomptr
+nsimsgsendreport
+sendreport
+mstate
+getsendreport
+getteraddrefs
+sendreport
+sendreport
+nsautostring
+errormsg
+nsautostring
+path
+nsmsggetnativepathstring
+mfilespec
+getnativepathcstring
+path
+nsmsgbuilderrormessagebyid
+nsmsgunabletoopentmpfile
+errormsg
+path
+nsnull
+sendreport
+setmessage
+nsimsgsendreport
+processcurrent
+errormsg
+get
+prfalse
+status
+nsmsgunabletoopentmpfile
+fail
+mimemailtostreamreadbuffer
+mimemailtostreamreadbuffer
+prmalloc
+mimebuffersize
+mimemailtostreamreadbuffer
+status
+nserroroutofmemory
+fail
+buffer
+mimemailtostreamreadbuffer
+mstripsensitiveheaders
+prbool
+skipping
+prfalse
+line
+mystream
+eof
+line
+nsnull
+buffer
+mystream
+readline
+buffer
+mimebuffersize
+line
+buffer
+line
+skipping
+line
+line
+skipping
+prfalse
+hdrlen
+plstrlen
+buffer
+hdrlen
+buffer
+hdrlen
+nscrt
+cr
+hdrlen
+buffer
+hdrlen
+nscrt
+cr
+buffer
+hdrlen
+nscrt
+lf
+hdrlen
+buffer
+hdrlen
+buffer
+hdrlen
+buffer
+hdrlen
+plstrncasecmp
+line
+from
+plstrncasecmp
+line
+bcc
+plstrncasecmp
+line
+fcc
+plstrncasecmp
+line
+contentlength
+contentlengthlen
+plstrncasecmp
+line
+lines
+plstrncasecmp
+line
+status
+plstrncasecmp
+line
+xmozillastatus
+xmozillastatuslen
+plstrncasecmp
+line
+xmozillastatus
+xmozillastatuslen
+plstrncasecmp
+line
+xmozilladraftinfo
+xmozilladraftinfolen
+plstrncasecmp
+line
+xmozillanewshost
+xmozillanewshostlen
+plstrncasecmp
+line
+xuidl
+xuidllen
+plstrncasecmp
+line
+vm
+skipping
+prtrue
+push
+line
+line
+nscrt
+cr
+line
+nscrt
+lf
+mystream
+eof
+status
+mystream
+read
+buffer
+mimebuffersize
+fail
+status
+pushbody
+buffer
+status
+status
+fail
+mencoderdata
+status
+mimeencoderdestroy
+mencoderdata
+prfalse
+mencoderdata
+nsnull
+status
+fail
+mnumchildren
+prbool
+writeseparator
+prtrue
+mnumchildren
+writeseparator
+push
+crlf
+push
+push
+separator
+push
+crlf
+status
+mchildren
+write
+status
+fail
+status
+skipemptypart
+writeseparator
+prfalse
+writeseparator
+prtrue
+push
+crlf
+push
+push
+separator
+push
+push
+crlf
+fail
+prfreeif
+separator
+status
\ No newline at end of file
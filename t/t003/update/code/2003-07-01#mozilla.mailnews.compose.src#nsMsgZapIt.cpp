@@ -0,0 +1,35 @@
+msgcore
+nsmsgzapit
+nscrt
+defined
+xpos
+defined
+debugalloc
+nsmsgzapit
+sizet
+size
+file
+sizet
+line
+cppthrownew
+rv
+size
+file
+line
+rv
+memset
+rv
+size
+rv
+nsmsgzapit
+sizet
+size
+cppthrownew
+rv
+size
+rv
+memset
+rv
+size
+rv
+endif
\ No newline at end of file
@@ -0,0 +1,956 @@
+nsiservicemanager
+nsipref
+nsescape
+nssmtpserver
+nsiobserverservice
+nsnetutil
+nsiauthprompt
+nsxpidlstring
+nsreadableutils
+nsismtpurl
+nscrt
+nsmsgutils
+nsimpladdref
+nssmtpserver
+nsimplrelease
+nssmtpserver
+nsinterfacemapbegin
+nssmtpserver
+nsinterfacemapentry
+nsismtpserver
+nsinterfacemapentry
+nsisupportsweakreference
+nsinterfacemapentryambiguous
+nsisupports
+nsismtpserver
+nsinterfacemapend
+nssmtpserver
+nssmtpserver
+nssmtpserver
+nssmtpserver
+nsimethodimp
+nssmtpserver
+getkey
+akey
+akey
+nserrornullpointer
+mkey
+isempty
+akey
+nsnull
+akey
+tonewcstring
+mkey
+nsok
+nsimethodimp
+nssmtpserver
+setkey
+akey
+mkey
+akey
+nsok
+nsimethodimp
+nssmtpserver
+gethostname
+ahostname
+nsresult
+rv
+nscautostring
+pref
+nsensureargpointer
+ahostname
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+rv
+getprefstring
+hostname
+pref
+rv
+prefs
+copycharpref
+pref
+get
+ahostname
+nsfailed
+rv
+ahostname
+nsnull
+nsok
+nsimethodimp
+nssmtpserver
+sethostname
+ahostname
+nsresult
+rv
+nscautostring
+pref
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+rv
+getprefstring
+hostname
+pref
+ahostname
+prefs
+setcharpref
+pref
+get
+ahostname
+prefs
+clearuserpref
+pref
+get
+nsok
+nsimethodimp
+nssmtpserver
+getport
+print
+aport
+nsresult
+rv
+nscautostring
+pref
+nsensureargpointer
+aport
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+rv
+getprefstring
+port
+pref
+rv
+prefs
+getintpref
+pref
+get
+aport
+nsfailed
+rv
+aport
+nsok
+nsimethodimp
+nssmtpserver
+setport
+print
+aport
+nsresult
+rv
+nscautostring
+pref
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+rv
+getprefstring
+port
+pref
+aport
+prefs
+setintpref
+pref
+get
+aport
+prefs
+clearuserpref
+pref
+get
+nsok
+nsimethodimp
+nssmtpserver
+getdisplayname
+adisplayname
+nsresult
+rv
+nsensureargpointer
+adisplayname
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+rv
+nscautostring
+hpref
+getprefstring
+hostname
+hpref
+nscautostring
+ppref
+getprefstring
+port
+ppref
+nsxpidlcstring
+hostname
+rv
+prefs
+copycharpref
+hpref
+get
+gettercopies
+hostname
+nsfailed
+rv
+adisplayname
+nsnull
+nsok
+print
+port
+rv
+prefs
+getintpref
+ppref
+get
+port
+nsfailed
+rv
+port
+port
+nscautostring
+combined
+combined
+hostname
+get
+combined
+combined
+appendint
+port
+adisplayname
+tonewcstring
+combined
+adisplayname
+tonewcstring
+hostname
+nsok
+nsimethodimp
+nssmtpserver
+gettryssl
+print
+tryssl
+nsresult
+rv
+nscautostring
+pref
+nsensureargpointer
+tryssl
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+rv
+tryssl
+getprefstring
+tryssl
+pref
+rv
+prefs
+getintpref
+pref
+get
+tryssl
+nsfailed
+rv
+getdefaultintpref
+prefs
+tryssl
+tryssl
+nsok
+nsimethodimp
+nssmtpserver
+settryssl
+print
+tryssl
+nsresult
+rv
+nscautostring
+pref
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+rv
+getprefstring
+tryssl
+pref
+prefs
+setintpref
+pref
+get
+tryssl
+nsimethodimp
+nssmtpserver
+getauthmethod
+print
+authmethod
+nsresult
+rv
+nscautostring
+pref
+nsensureargpointer
+authmethod
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+rv
+authmethod
+getprefstring
+authmethod
+pref
+rv
+prefs
+getintpref
+pref
+get
+authmethod
+nsfailed
+rv
+rv
+getdefaultintpref
+prefs
+authmethod
+authmethod
+rv
+nsresult
+nssmtpserver
+getdefaultintpref
+nsipref
+prefs
+print
+defval
+prefname
+print
+val
+nscautostring
+fullprefname
+fullprefname
+mail
+smtpserver
+fullprefname
+append
+prefname
+nsresult
+rv
+prefs
+getintpref
+fullprefname
+get
+val
+nsfailed
+rv
+val
+defval
+nsok
+nsimethodimp
+nssmtpserver
+setauthmethod
+print
+authmethod
+nsresult
+rv
+nscautostring
+pref
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+rv
+getprefstring
+authmethod
+pref
+prefs
+setintpref
+pref
+get
+authmethod
+nsimethodimp
+nssmtpserver
+getusername
+ausername
+nsresult
+rv
+nscautostring
+pref
+nsensureargpointer
+ausername
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+rv
+getprefstring
+username
+pref
+rv
+prefs
+copycharpref
+pref
+get
+ausername
+nsfailed
+rv
+ausername
+nsnull
+nsok
+nsimethodimp
+nssmtpserver
+setusername
+ausername
+nsresult
+rv
+nscautostring
+pref
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+rv
+getprefstring
+username
+pref
+ausername
+prefs
+setcharpref
+pref
+get
+ausername
+prefs
+clearuserpref
+pref
+get
+nsok
+nsimethodimp
+nssmtpserver
+getpassword
+apassword
+nsensureargpointer
+apassword
+apassword
+tonewcstring
+mpassword
+nsok
+nsimethodimp
+nssmtpserver
+setpassword
+apassword
+mpassword
+apassword
+nsok
+nsimethodimp
+nssmtpserver
+getpasswordwithui
+prunichar
+apromptmessage
+prunichar
+aprompttitle
+nsiauthprompt
+adialog
+apassword
+nsresult
+rv
+nsok
+nsensureargpointer
+apassword
+mpassword
+isempty
+nsensureargpointer
+adialog
+nssucceeded
+rv
+nsxpidlstring
+unipassword
+prbool
+okayvalue
+prtrue
+nsxpidlcstring
+serveruri
+rv
+getserveruri
+gettercopies
+serveruri
+nsfailed
+rv
+rv
+rv
+adialog
+promptpassword
+aprompttitle
+apromptmessage
+nsconvertasciitoucs
+serveruri
+get
+nsiauthprompt
+savepasswordpermanently
+gettercopies
+unipassword
+okayvalue
+nsfailed
+rv
+rv
+okayvalue
+apassword
+nsnull
+rv
+nscstring
+acstr
+acstr
+assignwithconversion
+unipassword
+rv
+setpassword
+acstr
+get
+nsfailed
+rv
+rv
+rv
+getpassword
+apassword
+rv
+nsimethodimp
+nssmtpserver
+getusernamepasswordwithui
+prunichar
+apromptmessage
+prunichar
+aprompttitle
+nsiauthprompt
+adialog
+ausername
+apassword
+nsresult
+rv
+nsok
+nsensureargpointer
+ausername
+nsensureargpointer
+apassword
+mpassword
+isempty
+nsensureargpointer
+adialog
+nssucceeded
+rv
+nsxpidlstring
+uniusername
+nsxpidlstring
+unipassword
+prbool
+okayvalue
+prtrue
+nsxpidlcstring
+serveruri
+rv
+getserveruri
+gettercopies
+serveruri
+nsfailed
+rv
+rv
+rv
+adialog
+promptusernameandpassword
+aprompttitle
+apromptmessage
+nsconvertasciitoucs
+serveruri
+get
+nsiauthprompt
+savepasswordpermanently
+gettercopies
+uniusername
+gettercopies
+unipassword
+okayvalue
+nsfailed
+rv
+rv
+okayvalue
+ausername
+nsnull
+apassword
+nsnull
+rv
+nscstring
+acstr
+acstr
+assignwithconversion
+uniusername
+rv
+setusername
+acstr
+get
+nsfailed
+rv
+rv
+acstr
+assignwithconversion
+unipassword
+rv
+setpassword
+acstr
+get
+nsfailed
+rv
+rv
+rv
+getusername
+ausername
+nsfailed
+rv
+rv
+rv
+getpassword
+apassword
+rv
+nsimethodimp
+nssmtpserver
+forgetpassword
+nsresult
+rv
+nscomptr
+nsiobserverservice
+observerservice
+dogetservice
+observer
+service
+rv
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+serveruri
+rv
+getserveruri
+gettercopies
+serveruri
+nsfailed
+rv
+rv
+nscomptr
+nsiuri
+uri
+nsnewuri
+getteraddrefs
+uri
+serveruri
+rv
+createservicesforpasswordmanager
+nsensuresuccess
+rv
+rv
+rv
+observerservice
+notifyobservers
+uri
+login
+failed
+nsnull
+nsensuresuccess
+rv
+rv
+rv
+setpassword
+rv
+nsimethodimp
+nssmtpserver
+getserveruri
+aresult
+nsensureargpointer
+aresult
+nsresult
+rv
+nscautostring
+uri
+uri
+smtp
+uri
+nsxpidlcstring
+username
+rv
+getusername
+gettercopies
+username
+nssucceeded
+rv
+username
+username
+nsxpidlcstring
+escapedusername
+gettercopies
+escapedusername
+nsescape
+username
+urlxalphas
+uri
+append
+escapedusername
+uri
+nsxpidlcstring
+hostname
+rv
+gethostname
+gettercopies
+hostname
+nssucceeded
+rv
+hostname
+hostname
+nsxpidlcstring
+escapedhostname
+gettercopies
+escapedhostname
+nsescape
+hostname
+urlpath
+uri
+append
+escapedhostname
+aresult
+tonewcstring
+uri
+nsok
+nsresult
+nssmtpserver
+getprefstring
+pref
+nscautostring
+result
+result
+mail
+smtpserver
+result
+mkey
+result
+result
+pref
+nsok
+nsimethodimp
+nssmtpserver
+setredirectortype
+aredirectortype
+nsresult
+rv
+nscautostring
+pref
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nsfailed
+rv
+rv
+getprefstring
+redirectortype
+pref
+aredirectortype
+prefs
+setcharpref
+pref
+get
+aredirectortype
+prefs
+clearuserpref
+pref
+get
+nsok
+nsimethodimp
+nssmtpserver
+getredirectortype
+aresult
+nsresult
+rv
+nscomptr
+nsiprefservice
+prefs
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+rv
+prefs
+getbranch
+nsnull
+getteraddrefs
+prefbranch
+nsensuresuccess
+rv
+rv
+nscautostring
+prefname
+getprefstring
+redirectortype
+prefname
+rv
+prefbranch
+getcharpref
+prefname
+get
+aresult
+nsfailed
+rv
+aresult
+nsnull
+aresult
+nscrt
+strcasecmp
+aresult
+aol
+nsxpidlcstring
+hostname
+rv
+gethostname
+gettercopies
+hostname
+nssucceeded
+rv
+hostname
+get
+nscrt
+strcmp
+hostname
+smtp
+netscape
+net
+plstrfree
+aresult
+rv
+setredirectortype
+netscape
+nsensuresuccess
+rv
+rv
+aresult
+nscrt
+strdup
+netscape
+nsxpidlcstring
+hostname
+rv
+gethostname
+gettercopies
+hostname
+nsensuresuccess
+rv
+rv
+prefname
+assign
+defaultredirectortype
+smtp
+prefname
+append
+hostname
+nsxpidlcstring
+defaultredirectortype
+rv
+prefbranch
+getcharpref
+prefname
+get
+gettercopies
+defaultredirectortype
+nssucceeded
+rv
+defaultredirectortype
+isempty
+aresult
+tonewcstring
+defaultredirectortype
+nsok
+nsimethodimp
+nssmtpserver
+clearallvalues
+nsresult
+rv
+nsok
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nsensuresuccess
+rv
+rv
+nscautostring
+rootpref
+mail
+smtpserver
+rootpref
+mkey
+rv
+prefs
+enumeratechildren
+rootpref
+get
+clearprefenum
+prefs
+get
+rv
+nssmtpserver
+clearprefenum
+apref
+aclosure
+nsipref
+prefs
+nsipref
+aclosure
+prefs
+clearuserpref
+apref
\ No newline at end of file
@@ -0,0 +1,277 @@
+ifdef
+xpmac
+stat
+sys
+stat
+endif
+msgcore
+nsimapmaildatabase
+nsdbfolderinfo
+nslocalfoldersummaryspec
+nsifilespec
+nsimapmaildatabase
+nsimapmaildatabase
+nsimapmaildatabase
+nsimapmaildatabase
+nsimethodimp
+nsimapmaildatabase
+open
+nsifilespec
+afoldername
+prbool
+create
+prbool
+upgrading
+nsimsgdatabase
+pmessagedb
+nsimapmaildatabase
+maildb
+prbool
+summaryfileexists
+stat
+st
+prbool
+newfile
+prfalse
+ifdef
+debugbienvenu
+nsassertion
+mfolder
+folder
+should
+be
+set
+endif
+afoldername
+nserrornullpointer
+nsfilespec
+foldername
+afoldername
+getfilespec
+foldername
+nslocalfoldersummaryspec
+summaryspec
+foldername
+nsidbfolderinfo
+folderinfo
+pmessagedb
+nsfilespec
+dbpath
+summaryspec
+maildb
+nsimapmaildatabase
+findincache
+dbpath
+maildb
+pmessagedb
+maildb
+nsok
+defined
+debugbienvenu
+defined
+debugjefft
+printf
+really
+opening
+db
+in
+nsimapmaildatabase
+open
+foldername
+create
+true
+false
+pmessagedb
+upgrading
+true
+false
+foldername
+endif
+summaryspec
+exists
+create
+newfile
+prtrue
+maildb
+nsimapmaildatabase
+maildb
+nserroroutofmemory
+maildb
+mfolderspec
+nsfilespec
+foldername
+maildb
+mfolder
+mfolder
+maildb
+addref
+summaryfileexists
+summaryspec
+exists
+nativefoldername
+nscrt
+strdup
+foldername
+defined
+xpwin
+defined
+xpos
+defined
+xpmac
+unixtonative
+nativefoldername
+endif
+stat
+nativefoldername
+st
+prfreeif
+nativefoldername
+nsresult
+err
+nsmsgerrorfoldersummaryoutofdate
+err
+maildb
+openmdb
+summaryspec
+create
+err
+nsok
+maildb
+getdbfolderinfo
+folderinfo
+folderinfo
+err
+nsmsgerrorfoldersummaryoutofdate
+pruint
+version
+folderinfo
+getversion
+version
+maildb
+getcurversion
+version
+err
+nsmsgerrorfoldersummaryoutofdate
+nsrelease
+folderinfo
+err
+nsok
+nsifrelease
+maildb
+mdbfolderinfo
+maildb
+forceclosed
+err
+nsmsgerrorfoldersummaryoutofdate
+summaryspec
+delete
+prfalse
+maildb
+err
+nsok
+newfile
+newfile
+upgrading
+err
+nsmsgerrorfoldersummarymissing
+err
+nsok
+pmessagedb
+maildb
+maildb
+close
+prfalse
+maildb
+summaryspec
+delete
+prfalse
+maildb
+err
+nsok
+err
+nsmsgerrorfoldersummarymissing
+pmessagedb
+maildb
+maildb
+getdbcache
+appendelement
+maildb
+err
+nsimethodimp
+nsimapmaildatabase
+setsummaryvalid
+prbool
+nsok
+nsimapmaildatabase
+updatefolderflag
+nsimsgdbhdr
+prbool
+msgflags
+nsiofilestream
+prbool
+nsimapmaildatabase
+sethdrflag
+nsimsgdbhdr
+msghdr
+prbool
+bset
+msgflags
+flag
+nsmsgdatabase
+sethdrflag
+msghdr
+bset
+flag
+nsimethodimp
+nsimapmaildatabase
+startbatch
+nsok
+nsimethodimp
+nsimapmaildatabase
+endbatch
+nsok
+nsimethodimp
+nsimapmaildatabase
+deletemessages
+nsmsgkeyarray
+nsmsgkeys
+nsidbchangelistener
+instigator
+nsmsgdatabase
+deletemessages
+nsmsgkeys
+instigator
+nsresult
+nsimapmaildatabase
+adjustexpungedbytesondelete
+nsimsgdbhdr
+msghdr
+pruint
+msgflags
+msghdr
+getflags
+msgflags
+msgflags
+msgflagoffline
+mdbfolderinfo
+pruint
+size
+msghdr
+getofflinemessagesize
+size
+mdbfolderinfo
+changeexpungedbytes
+size
+nsok
+nsimethodimp
+nsimapmaildatabase
+setfolderstream
+nsiofilestream
+afilestream
+nsassertion
+trying
+to
+set
+folderstream
+implemented
+nserrornotimplemented
\ No newline at end of file
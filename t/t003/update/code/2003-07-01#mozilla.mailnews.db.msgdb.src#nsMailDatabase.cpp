@@ -0,0 +1,1480 @@
+msgcore
+nsimapcore
+nsmaildatabase
+nsdbfolderinfo
+nsmsglocalfolderhdrs
+nsfilestream
+nslocalfoldersummaryspec
+nsfilespec
+nsmsgofflineimapoperation
+nsmsgfolderflags
+prlog
+prprf
+nsifilespec
+ifdef
+putupalertoninvaliddb
+nsiprompt
+nsiwindowwatcher
+endif
+kofflineopsscope
+ns
+msg
+db
+row
+scope
+ops
+all
+kofflineopstablekind
+ns
+msg
+db
+table
+kind
+ops
+mdboid
+gallofflineopstableoid
+nsmaildatabase
+nsmaildatabase
+mreparse
+prfalse
+mfolderspec
+nsnull
+mfolderstream
+nsnull
+mownfolderstream
+prfalse
+mmdballofflineopstable
+nsnull
+nsmaildatabase
+nsmaildatabase
+mfolderspec
+mfolderspec
+mmdballofflineopstable
+mmdballofflineopstable
+release
+nsimethodimp
+nsmaildatabase
+setfolderstream
+nsiofilestream
+afilestream
+nsassertion
+mfolderstream
+afilestream
+mfolderstream
+is
+we
+are
+assigning
+non
+stream
+to
+it
+mfolderstream
+afilestream
+mownfolderstream
+prfalse
+nsok
+prbool
+ggotglobalprefs
+prfalse
+prbool
+gthreadwithoutre
+prtrue
+print
+gtimestampleeway
+nsmaildatabase
+getglobalprefs
+ggotglobalprefs
+getboolpref
+mail
+threadwithoutre
+gthreadwithoutre
+getintpref
+mail
+dbtimestampleeway
+gtimestampleeway
+ggotglobalprefs
+prtrue
+nsimethodimp
+nsmaildatabase
+open
+nsifilespec
+afoldername
+prbool
+create
+prbool
+upgrading
+nsimsgdatabase
+pmessagedb
+nsmaildatabase
+maildb
+prbool
+summaryfileexists
+prbool
+newfile
+prfalse
+prbool
+deleteinvaliddb
+prfalse
+nsfilespec
+foldername
+afoldername
+nserrornullpointer
+afoldername
+getfilespec
+foldername
+nslocalfoldersummaryspec
+summaryspec
+foldername
+nsidbfolderinfo
+folderinfo
+nsnull
+pmessagedb
+nsnull
+nsfilespec
+dbpath
+summaryspec
+maildb
+nsmaildatabase
+findincache
+dbpath
+maildb
+pmessagedb
+maildb
+nsok
+summaryspec
+exists
+create
+newfile
+prtrue
+maildb
+nsmaildatabase
+maildb
+nserroroutofmemory
+maildb
+mfolderspec
+nsfilespec
+foldername
+maildb
+mfolder
+mfolder
+maildb
+addref
+summaryfileexists
+summaryspec
+exists
+nsresult
+err
+nsmsgerrorfoldersummaryoutofdate
+err
+maildb
+openmdb
+summaryspec
+create
+nssucceeded
+err
+maildb
+getdbfolderinfo
+folderinfo
+folderinfo
+err
+nsmsgerrorfoldersummaryoutofdate
+newfile
+summaryfileexists
+upgrading
+prbool
+valid
+maildb
+getsummaryvalid
+valid
+valid
+err
+nsmsgerrorfoldersummaryoutofdate
+nsrelease
+folderinfo
+err
+nsok
+deleteinvaliddb
+prtrue
+err
+nsmsgerrorfoldersummaryoutofdate
+deleteinvaliddb
+prtrue
+deleteinvaliddb
+nsifrelease
+maildb
+mdbfolderinfo
+maildb
+forceclosed
+nsrelease
+maildb
+err
+nsmsgerrorfoldersummaryoutofdate
+summaryspec
+delete
+prfalse
+err
+nsok
+newfile
+newfile
+upgrading
+err
+nsmsgerrorfoldersummarymissing
+err
+nsok
+nsifrelease
+maildb
+err
+nsok
+err
+nsmsgerrorfoldersummarymissing
+pmessagedb
+maildb
+maildb
+getdbcache
+appendelement
+maildb
+err
+nsimethodimp
+nsmaildatabase
+forceclosed
+mmdballofflineopstable
+mmdballofflineopstable
+release
+mmdballofflineopstable
+nsnull
+nsmsgdatabase
+forceclosed
+nsresult
+nsmaildatabase
+getallofflineopstable
+nsresult
+rv
+nsok
+mmdballofflineopstable
+mdberr
+err
+getstore
+stringtotoken
+getenv
+kofflineopsscope
+mofflineopsrowscopetoken
+err
+getstore
+stringtotoken
+getenv
+kofflineopstablekind
+mofflineopstablekindtoken
+gallofflineopstableoid
+moidscope
+mofflineopsrowscopetoken
+gallofflineopstableoid
+moidid
+rv
+getstore
+gettable
+getenv
+gallofflineopstableoid
+mmdballofflineopstable
+rv
+nsok
+rv
+nserrorfailure
+nssucceeded
+rv
+mmdballofflineopstable
+nsimdbstore
+store
+getstore
+mdberr
+mdberr
+nsresult
+store
+newtable
+getenv
+mofflineopsrowscopetoken
+mofflineopstablekindtoken
+prfalse
+nsnull
+mmdballofflineopstable
+mdberr
+nsok
+mmdballofflineopstable
+rv
+nserrorfailure
+nsassertion
+nssucceeded
+rv
+couldn
+create
+offline
+ops
+table
+rv
+nsresult
+nsmaildatabase
+cloneinvaliddbinfointonewdb
+nsfilespec
+pathname
+nsmaildatabase
+pmaildb
+nsresult
+ret
+nsok
+ret
+nsresult
+nsmaildatabase
+onnewpath
+nsfilespec
+newpath
+nsresult
+ret
+nsok
+ret
+nsimethodimp
+nsmaildatabase
+startbatch
+mfolderstream
+prbool
+islocked
+mfolder
+getlocked
+islocked
+islocked
+nsassertion
+prfalse
+some
+other
+operation
+is
+in
+progress
+nsmsgfolderbusy
+mfolderstream
+nsiofilestream
+nsfilespec
+mfolderspec
+mownfolderstream
+prtrue
+nsok
+nsimethodimp
+nsmaildatabase
+endbatch
+mownfolderstream
+mfolderstream
+mfolderstream
+flush
+mfolderstream
+close
+mfolderstream
+mfolderstream
+nsnull
+mownfolderstream
+prfalse
+nsok
+nsimethodimp
+nsmaildatabase
+deletemessages
+nsmsgkeyarray
+nsmsgkeys
+nsidbchangelistener
+instigator
+mfolderstream
+mfolder
+prbool
+islocked
+mfolder
+getlocked
+islocked
+islocked
+nsassertion
+prfalse
+some
+other
+operation
+is
+in
+progress
+nsmsgfolderbusy
+mfolderstream
+nsiofilestream
+nsfilespec
+mfolderspec
+mownfolderstream
+prtrue
+nsresult
+rv
+nsmsgdatabase
+deletemessages
+nsmsgkeys
+instigator
+mownfolderstream
+mfolderstream
+mfolderstream
+flush
+mfolderstream
+close
+mfolderstream
+mfolderstream
+nsnull
+mownfolderstream
+prfalse
+setfolderinfovalid
+mfolderspec
+rv
+prbool
+nsmaildatabase
+sethdrflag
+nsimsgdbhdr
+msghdr
+prbool
+bset
+msgflags
+flag
+nsiofilestream
+filestream
+nsnull
+prbool
+ret
+prfalse
+mfolderstream
+mfolder
+prbool
+islocked
+mfolder
+getlocked
+islocked
+islocked
+nsassertion
+prfalse
+some
+other
+operation
+is
+in
+progress
+prfalse
+nsmsgdatabase
+sethdrflag
+msghdr
+bset
+flag
+updatefolderflag
+msghdr
+bset
+flag
+filestream
+filestream
+filestream
+flush
+filestream
+close
+filestream
+setfolderinfovalid
+mfolderspec
+ret
+prtrue
+ret
+ifdef
+xpmac
+prfiledesc
+gincorporatefid
+gincorporatepath
+endif
+msgunhex
+nsmaildatabase
+updatefolderflag
+nsimsgdbhdr
+mailhdr
+prbool
+bset
+msgflags
+flag
+nsiofilestream
+ppfilestream
+buf
+print
+folderstreampos
+nsiofilestream
+filestream
+mfolderstream
+mfolderstream
+ppfilestream
+ifdef
+xpmac
+endif
+pruint
+offset
+mailhdr
+getstatusoffset
+offset
+offset
+filestream
+filestream
+nsiofilestream
+nsfilespec
+mfolderspec
+mownfolderstream
+mfolderstream
+flush
+folderstreampos
+mfolderstream
+tell
+filestream
+pruint
+msgoffset
+mailhdr
+getmessageoffset
+msgoffset
+pruint
+position
+offset
+msgoffset
+prassert
+offset
+filestream
+seek
+position
+buf
+filestream
+readline
+buf
+buf
+strncmp
+buf
+xmozillastatus
+xmozillastatuslen
+strncmp
+buf
+xmozillastatuslen
+strlen
+buf
+xmozillastatuslen
+pruint
+flags
+mailhdr
+getflags
+flags
+flags
+msgflagexpunged
+buf
+xmozillastatuslen
+flags
+flags
+flags
+msgunhex
+pruint
+curflags
+mailhdr
+getflags
+curflags
+flags
+flags
+msgflagqueued
+curflags
+msgflagruntimeonly
+flags
+msgflagruntimeonly
+filestream
+seek
+position
+prsnprintf
+buf
+buf
+xmozillastatusformat
+flags
+xffff
+filestream
+write
+buf
+plstrlen
+buf
+position
+filestream
+tell
+filestream
+seek
+position
+msglinebreaklen
+filestream
+readline
+buf
+buf
+strncmp
+buf
+xmozillastatus
+xmozillastatuslen
+strncmp
+buf
+xmozillastatuslen
+strlen
+buf
+xmozillastatuslen
+pruint
+dbflags
+mailhdr
+getflags
+dbflags
+dbflags
+xffff
+filestream
+seek
+position
+msglinebreaklen
+prsnprintf
+buf
+buf
+xmozillastatusformat
+dbflags
+filestream
+write
+buf
+plstrlen
+buf
+ifdef
+debug
+printf
+didn
+find
+where
+expected
+at
+position
+ld
+instead
+found
+xmozillastatus
+position
+buf
+endif
+setreparse
+prtrue
+ifdef
+debug
+printf
+couldn
+read
+old
+status
+line
+at
+all
+at
+position
+ld
+position
+endif
+setreparse
+prtrue
+ifdef
+xpmac
+endif
+ifdef
+debug
+printf
+couldn
+open
+mail
+folder
+update
+mfolderspec
+endif
+prassert
+prfalse
+mfolderstream
+ppfilestream
+filestream
+mownfolderstream
+mfolderstream
+seek
+prseekset
+folderstreampos
+nsimethodimp
+nsmaildatabase
+getsummaryvalid
+prbool
+aresult
+nsensureargpointer
+aresult
+pruint
+foldersize
+pruint
+folderdate
+nsfilespec
+timestamp
+actualfoldertimestamp
+print
+numnewmessages
+nsautostring
+errormsg
+aresult
+prfalse
+mfolderspec
+mdbfolderinfo
+mfolderspec
+getmoddate
+actualfoldertimestamp
+mdbfolderinfo
+getnumnewmessages
+numnewmessages
+mdbfolderinfo
+getfoldersize
+foldersize
+mdbfolderinfo
+getfolderdate
+folderdate
+pruint
+version
+mdbfolderinfo
+getversion
+version
+foldersize
+mfolderspec
+getfilesize
+numnewmessages
+getcurversion
+version
+getglobalprefs
+gtimestampleeway
+aresult
+folderdate
+actualfoldertimestamp
+aresult
+prabs
+print
+actualfoldertimestamp
+folderdate
+gtimestampleeway
+ifndef
+putupalertoninvaliddb
+aresult
+errormsg
+appendwithconversion
+time
+stamp
+didn
+match
+delta
+errormsg
+appendint
+actualfoldertimestamp
+folderdate
+errormsg
+appendwithconversion
+leeway
+errormsg
+appendint
+gtimestampleeway
+foldersize
+mfolderspec
+getfilesize
+errormsg
+appendwithconversion
+folder
+size
+didn
+match
+db
+size
+errormsg
+appendint
+foldersize
+errormsg
+appendwithconversion
+actual
+size
+errormsg
+appendint
+mfolderspec
+getfilesize
+numnewmessages
+errormsg
+appendwithconversion
+numnewmessages
+errormsg
+length
+nscomptr
+nsiprompt
+dialog
+nscomptr
+nsiwindowwatcher
+wwatch
+dogetservice
+nswindowwatchercontractid
+wwatch
+wwatch
+getnewprompter
+getteraddrefs
+dialog
+dialog
+dialog
+alert
+nsnull
+errormsg
+get
+endif
+nsok
+nsimethodimp
+nsmaildatabase
+setsummaryvalid
+prbool
+valid
+nsresult
+ret
+nsok
+mfolderspec
+exists
+nsmsgerrorfoldermissing
+mdbfolderinfo
+valid
+nsfilespec
+timestamp
+actualfoldertimestamp
+mfolderspec
+getmoddate
+actualfoldertimestamp
+mdbfolderinfo
+setfoldersize
+mfolderspec
+getfilesize
+mdbfolderinfo
+setfolderdate
+actualfoldertimestamp
+mdbfolderinfo
+setversion
+ret
+nsresult
+nsmaildatabase
+getfoldername
+nsstring
+foldername
+foldername
+assignwithconversion
+nsstaticcast
+mfolderspec
+nsok
+nsimethodimp
+nsmaildatabase
+removeofflineop
+nsimsgofflineimapoperation
+op
+nsresult
+rv
+getallofflineopstable
+nsensuresuccess
+rv
+rv
+op
+mmdballofflineopstable
+nserrornullpointer
+nsmsgofflineimapoperation
+offlineop
+nsstaticcast
+nsmsgofflineimapoperation
+op
+nsimdbrow
+row
+offlineop
+getmdbrow
+rv
+mmdballofflineopstable
+cutrow
+getenv
+row
+row
+cutallcolumns
+getenv
+rv
+nsresult
+setsourcemailbox
+nsofflineimapoperation
+op
+mailbox
+nsmsgkey
+key
+nsresult
+ret
+nsok
+ret
+nsresult
+nsmaildatabase
+getidswithnobodies
+nsmsgkeyarray
+bodylessids
+nsresult
+ret
+nsok
+ret
+nsimethodimp
+nsmaildatabase
+getofflineopforkey
+nsmsgkey
+msgkey
+prbool
+create
+nsimsgofflineimapoperation
+offlineop
+prbool
+newop
+prfalse
+mdbbool
+hasoid
+mdboid
+rowobjectid
+mdberr
+err
+nsresult
+rv
+getallofflineopstable
+nsensuresuccess
+rv
+rv
+offlineop
+mmdballofflineopstable
+nserrornullpointer
+offlineop
+rowobjectid
+moidid
+msgkey
+rowobjectid
+moidscope
+mofflineopsrowscopetoken
+err
+mmdballofflineopstable
+hasoid
+getenv
+rowobjectid
+hasoid
+err
+nsok
+mmdbstore
+hasoid
+create
+nsimdbrow
+offlineoprow
+err
+mmdbstore
+getrow
+getenv
+rowobjectid
+offlineoprow
+create
+offlineoprow
+err
+mmdbstore
+newrowwithoid
+getenv
+rowobjectid
+offlineoprow
+nsensuresuccess
+err
+err
+offlineoprow
+hasoid
+mmdballofflineopstable
+addrow
+getenv
+offlineoprow
+newop
+prtrue
+err
+nsok
+offlineoprow
+offlineop
+nsmsgofflineimapoperation
+offlineoprow
+offlineop
+offlineop
+setmessagekey
+msgkey
+nscomptr
+nsimsgdbhdr
+msghdr
+prbool
+containskey
+rv
+containskey
+msgkey
+containskey
+nssucceeded
+rv
+containskey
+getmsghdrforkey
+msgkey
+getteraddrefs
+msghdr
+msghdr
+imapmessageflagstype
+imapflags
+knoimapmsgflag
+pruint
+msghdrflags
+msghdr
+getflags
+msghdrflags
+msghdrflags
+msgflagread
+imapflags
+kimapmsgseenflag
+msghdrflags
+msgflagreplied
+imapflags
+kimapmsgansweredflag
+msghdrflags
+msgflagmarked
+imapflags
+kimapmsgflaggedflag
+msghdrflags
+msgflagforwarded
+imapflags
+kimapmsgforwardedflag
+msghdrflags
+msgflagimapdeleted
+imapflags
+kimapmsgdeletedflag
+offlineop
+setnewflags
+imapflags
+nsifaddref
+offlineop
+hasoid
+mdbfolderinfo
+print
+newflags
+mdbfolderinfo
+orflags
+msgfolderflagofflineevents
+newflags
+err
+nsok
+nserrorfailure
+nsimethodimp
+nsmaildatabase
+enumerateofflineops
+nsisimpleenumerator
+enumerator
+nsassertion
+prfalse
+impl
+yet
+nserrornotimplemented
+nsimethodimp
+nsmaildatabase
+listallofflineopids
+nsmsgkeyarray
+offlineopids
+nsensurearg
+offlineopids
+nsresult
+rv
+getallofflineopstable
+nsensuresuccess
+rv
+rv
+nsimdbtablerowcursor
+rowcursor
+mmdballofflineopstable
+nsresult
+err
+mmdballofflineopstable
+gettablerowcursor
+getenv
+rowcursor
+err
+nsok
+rowcursor
+mdboid
+outoid
+mdbpos
+outpos
+err
+rowcursor
+nextrowoid
+getenv
+outoid
+outpos
+outpos
+outoid
+moidid
+mdbid
+err
+nsok
+offlineopids
+add
+outoid
+moidid
+rv
+err
+nsok
+nsok
+nserrorfailure
+rowcursor
+release
+offlineopids
+quicksort
+rv
+nsimethodimp
+nsmaildatabase
+listallofflinedeletes
+nsmsgkeyarray
+offlinedeletes
+offlinedeletes
+nserrornullpointer
+nsresult
+rv
+getallofflineopstable
+nsensuresuccess
+rv
+rv
+nsimdbtablerowcursor
+rowcursor
+mmdballofflineopstable
+nsresult
+err
+mmdballofflineopstable
+gettablerowcursor
+getenv
+rowcursor
+err
+nsok
+rowcursor
+mdboid
+outoid
+mdbpos
+outpos
+nsimdbrow
+offlineoprow
+err
+rowcursor
+nextrow
+getenv
+offlineoprow
+outpos
+outpos
+offlineoprow
+nsnull
+err
+nsok
+offlineoprow
+getoid
+getenv
+outoid
+nsimsgofflineimapoperation
+offlineop
+nsmsgofflineimapoperation
+offlineoprow
+offlineop
+nsaddref
+offlineop
+imapmessageflagstype
+newflags
+nsofflineimapoperationtype
+optype
+offlineop
+getoperation
+optype
+offlineop
+getnewflags
+newflags
+optype
+nsimsgofflineimapoperation
+kmsgmoved
+optype
+nsimsgofflineimapoperation
+kflagschanged
+newflags
+nsimsgofflineimapoperation
+kmsgmarkeddeleted
+offlinedeletes
+add
+outoid
+moidid
+nsrelease
+offlineop
+offlineoprow
+release
+rv
+err
+nsok
+nsok
+nserrorfailure
+rowcursor
+release
+rv
+nsresult
+nsmaildatabase
+setfolderinfovalid
+nsfilespec
+foldername
+num
+numunread
+nslocalfoldersummaryspec
+summaryspec
+foldername
+nsfilespec
+summarypath
+summaryspec
+nsresult
+err
+nsok
+prbool
+bopeneddb
+prfalse
+foldername
+exists
+nsmsgerrorfoldersummarymissing
+nsmaildatabase
+pmessagedb
+nsmaildatabase
+nsmaildatabase
+findincache
+summarypath
+pmessagedb
+nsnull
+pmessagedb
+nsmaildatabase
+pmessagedb
+nserroroutofmemory
+pmessagedb
+mfolderspec
+nslocalfoldersummaryspec
+pmessagedb
+mfolderspec
+pmessagedb
+nserroroutofmemory
+pmessagedb
+mfolderspec
+summaryspec
+err
+pmessagedb
+openmdb
+summarypath
+prfalse
+err
+nsok
+pmessagedb
+pmessagedb
+nsnull
+bopeneddb
+prtrue
+pmessagedb
+nsnull
+ifdef
+debug
+printf
+exception
+opening
+summary
+file
+endif
+nsmsgerrorfoldersummaryoutofdate
+nsfilespec
+timestamp
+actualfoldertimestamp
+foldername
+getmoddate
+actualfoldertimestamp
+pmessagedb
+mdbfolderinfo
+setfoldersize
+foldername
+getfilesize
+pmessagedb
+mdbfolderinfo
+setfolderdate
+actualfoldertimestamp
+pmessagedb
+mdbfolderinfo
+changenumvisiblemessages
+num
+pmessagedb
+mdbfolderinfo
+changenumnewmessages
+numunread
+pmessagedb
+mdbfolderinfo
+changenummessages
+num
+bopeneddb
+pmessagedb
+close
+prtrue
+pmessagedb
+err
+pmessagedb
+commit
+nsmsgdbcommittype
+klargecommit
+pmessagedb
+release
+err
+nsmaildatabase
+setreparse
+prbool
+reparse
+mreparse
+reparse
+prbool
+nsmaildatabase
+threadbysubjectwithoutre
+getglobalprefs
+gthreadwithoutre
+nsmsgofflineopenumerator
+nsisimpleenumerator
+nsdeclisupports
+nsdeclnsisimpleenumerator
+nsmsgofflineopenumerator
+nsmaildatabase
+db
+nsmsgofflineopenumerator
+nsresult
+getrowcursor
+nsresult
+prefetchnext
+nsmaildatabase
+mdb
+nsimdbtablerowcursor
+mrowcursor
+nscomptr
+nsimsgofflineimapoperation
+mresultop
+prbool
+mdone
+prbool
+mnextprefetched
+nsmsgofflineopenumerator
+nsmsgofflineopenumerator
+nsmaildatabase
+db
+mdb
+db
+mrowcursor
+nsnull
+mdone
+prfalse
+nsaddref
+mdb
+mnextprefetched
+prfalse
+nsmsgofflineopenumerator
+nsmsgofflineopenumerator
+nsifrelease
+mrowcursor
+nsrelease
+mdb
+nsimplisupports
+nsmsgofflineopenumerator
+nsisimpleenumerator
+nsresult
+nsmsgofflineopenumerator
+getrowcursor
+nsresult
+rv
+mdone
+prfalse
+mdb
+mdb
+mmdballofflineopstable
+nserrornullpointer
+rv
+mdb
+mmdballofflineopstable
+gettablerowcursor
+mdb
+getenv
+mrowcursor
+rv
+nsimethodimp
+nsmsgofflineopenumerator
+getnext
+nsisupports
+aitem
+aitem
+nserrornullpointer
+nsresult
+rv
+nsok
+mnextprefetched
+rv
+prefetchnext
+nssucceeded
+rv
+mresultop
+aitem
+mresultop
+nsaddref
+aitem
+mnextprefetched
+prfalse
+rv
+nsresult
+nsmsgofflineopenumerator
+prefetchnext
+nsresult
+rv
+nsok
+nsimdbrow
+offlineoprow
+mdbpos
+rowpos
+mrowcursor
+rv
+getrowcursor
+nsfailed
+rv
+rv
+rv
+mrowcursor
+nextrow
+mdb
+getenv
+offlineoprow
+rowpos
+offlineoprow
+mdone
+prtrue
+nserrorfailure
+nsfailed
+rv
+mdone
+prtrue
+rv
+mdboid
+outoid
+nsmsgkey
+key
+offlineoprow
+getoid
+mdb
+getenv
+outoid
+nsok
+key
+outoid
+moidid
+nsimsgofflineimapoperation
+op
+nsmsgofflineimapoperation
+mdb
+offlineoprow
+mresultop
+op
+op
+nserroroutofmemory
+mresultop
+mnextprefetched
+prtrue
+nsok
+nserrorfailure
+nsimethodimp
+nsmsgofflineopenumerator
+hasmoreelements
+prbool
+aresult
+aresult
+nserrornullpointer
+mnextprefetched
+prefetchnext
+aresult
+mdone
+nsok
\ No newline at end of file
@@ -0,0 +1,7399 @@
+ifdef
+xpmac
+stat
+sys
+stat
+endif
+nscore
+msgcore
+nsmsgdatabase
+nsdbfolderinfo
+nsmsgkeyset
+nsienumerator
+nsmsgthread
+nsfilestream
+nsstring
+nsxpidlstring
+nsreadableutils
+nsimsgheaderparser
+nsmsgbasecid
+nsmorkcid
+nsimdbfactoryfactory
+prlog
+prprf
+nstime
+nsifilespec
+nsilocale
+nslocalecid
+nsmsgmimecid
+nsilocaleservice
+nsimsgaccountmanager
+nsimsgfoldercache
+nsimsgfoldercacheelement
+mailnewstypes
+nsdefinecid
+kcmorkfactory
+nsmorkcid
+defined
+xpmac
+defined
+comparestring
+undef
+comparestring
+endif
+nsicollation
+nscollationcid
+nsipref
+defined
+debugsspitzer
+defined
+debugseth
+define
+debugmsgkeyset
+endif
+nsdefinecid
+kprefcid
+nsprefcid
+nsdefinecid
+kcollationfactorycid
+nscollationfactorycid
+define
+msghashsize
+print
+kmaxhdrsincache
+nsmsgkey
+kallmsghdrstablekey
+nsmsgkey
+ktablekeyforthreadone
+xfffffffe
+nsmsgkey
+kallthreadstablekey
+xfffffffd
+nsmsgkey
+kfirstpseudokey
+xfffffff
+nsmsgkey
+kidstartoffake
+xffffff
+nsresult
+nsmsgdatabase
+gethdrfromcache
+nsmsgkey
+key
+nsimsgdbhdr
+result
+result
+nserrornullpointer
+nsresult
+rv
+nserrorfailure
+result
+nsnull
+mbcacheheaders
+mcachedheaders
+pldhashentryhdr
+entry
+entry
+pldhashtableoperate
+mcachedheaders
+key
+pldhashlookup
+pldhashentryisbusy
+entry
+msghdrhashelement
+element
+nsreinterpretcast
+msghdrhashelement
+entry
+result
+element
+mhdr
+result
+nsaddref
+result
+rv
+nsok
+rv
+nsresult
+nsmsgdatabase
+addhdrtocache
+nsimsgdbhdr
+hdr
+nsmsgkey
+key
+mbcacheheaders
+mcachedheaders
+mcachedheaders
+plnewdhashtable
+gmsgdbhashtableops
+nsnull
+msghdrhashelement
+mcachesize
+mcachedheaders
+key
+nsmsgkeynone
+hdr
+getmessagekey
+key
+mcachedheaders
+entrycount
+mcachesize
+clearhdrcache
+prtrue
+pldhashentryhdr
+entry
+pldhashtableoperate
+mcachedheaders
+key
+pldhashadd
+entry
+nserroroutofmemory
+msghdrhashelement
+element
+nsreinterpretcast
+msghdrhashelement
+entry
+element
+mhdr
+hdr
+element
+mkey
+key
+nsaddref
+hdr
+nsok
+nserrorfailure
+pldhashoperator
+prcallback
+nsmsgdatabase
+headerenumerator
+pldhashtable
+table
+pldhashentryhdr
+hdr
+pruint
+number
+arg
+msghdrhashelement
+element
+nsreinterpretcast
+msghdrhashelement
+hdr
+nsifrelease
+element
+mhdr
+pldhashnext
+pldhashoperator
+prcallback
+nsmsgdatabase
+clearheaderenumerator
+pldhashtable
+table
+pldhashentryhdr
+hdr
+pruint
+number
+arg
+msghdrhashelement
+element
+nsreinterpretcast
+msghdrhashelement
+hdr
+element
+element
+mhdr
+nsmsghdr
+msghdr
+nsstaticcast
+nsmsghdr
+element
+mhdr
+msghdr
+mmdbrow
+nsnull
+pldhashnext
+nsimethodimp
+nsmsgdatabase
+setmsghdrcachesize
+pruint
+asize
+mcachesize
+asize
+nsok
+nsimethodimp
+nsmsgdatabase
+getmsghdrcachesize
+pruint
+asize
+nsensureargpointer
+asize
+asize
+mcachesize
+nsok
+nsimethodimp
+nsmsgdatabase
+clearcachedhdrs
+clearcachedobjects
+prfalse
+ifdef
+debugbienvenu
+mrefcnt
+nsassertion
+prfalse
+printf
+someone
+holding
+onto
+db
+refs
+ld
+mrefcnt
+endif
+nsok
+nsmsgdatabase
+clearcachedobjects
+prbool
+dbgoingaway
+clearhdrcache
+prfalse
+ifdef
+debugbienvenu
+mheadersinuse
+mheadersinuse
+entrycount
+nsassertion
+prfalse
+leaking
+headers
+printf
+leaking
+headers
+in
+mheadersinuse
+entrycount
+mdbname
+endif
+dbgoingaway
+clearusehdrcache
+mcachedthread
+nsnull
+mcachedthreadid
+nsmsgkeynone
+nsresult
+nsmsgdatabase
+clearhdrcache
+prbool
+reinit
+mcachedheaders
+pldhashtable
+savecachedheaders
+mcachedheaders
+mcachedheaders
+nsnull
+pldhashtableenumerate
+savecachedheaders
+headerenumerator
+nsnull
+reinit
+pldhashtablefinish
+savecachedheaders
+pldhashtableinit
+savecachedheaders
+gmsgdbhashtableops
+nsnull
+msghdrhashelement
+mcachesize
+mcachedheaders
+savecachedheaders
+pldhashtabledestroy
+savecachedheaders
+nsok
+nsresult
+nsmsgdatabase
+removehdrfromcache
+nsimsgdbhdr
+hdr
+nsmsgkey
+key
+mcachedheaders
+key
+nsmsgkeynone
+hdr
+getmessagekey
+key
+pldhashentryhdr
+entry
+pldhashtableoperate
+mcachedheaders
+key
+pldhashlookup
+pldhashentryisbusy
+entry
+pldhashtableoperate
+mcachedheaders
+key
+pldhashremove
+nsrelease
+hdr
+nsok
+nsresult
+nsmsgdatabase
+gethdrfromusecache
+nsmsgkey
+key
+nsimsgdbhdr
+result
+result
+nserrornullpointer
+nsresult
+rv
+nserrorfailure
+result
+nsnull
+mheadersinuse
+pldhashentryhdr
+entry
+entry
+pldhashtableoperate
+mheadersinuse
+key
+pldhashlookup
+pldhashentryisbusy
+entry
+msghdrhashelement
+element
+nsreinterpretcast
+msghdrhashelement
+entry
+result
+element
+mhdr
+result
+nsaddref
+result
+rv
+nsok
+rv
+pldhashtableops
+nsmsgdatabase
+gmsgdbhashtableops
+pldhashalloctable
+pldhashfreetable
+getkey
+hashkey
+matchentry
+moveentry
+clearentry
+pldhashfinalizestub
+nsnull
+prcallback
+nsmsgdatabase
+getkey
+pldhashtable
+atable
+pldhashentryhdr
+aentry
+msghdrhashelement
+hdr
+nsreinterpretcast
+msghdrhashelement
+aentry
+hdr
+mkey
+pldhashnumber
+prcallback
+nsmsgdatabase
+hashkey
+pldhashtable
+atable
+akey
+pldhashnumber
+nsptrtoint
+akey
+prbool
+prcallback
+nsmsgdatabase
+matchentry
+pldhashtable
+atable
+pldhashentryhdr
+aentry
+akey
+msghdrhashelement
+hdr
+nsreinterpretcast
+msghdrhashelement
+aentry
+akey
+hdr
+mkey
+prcallback
+nsmsgdatabase
+moveentry
+pldhashtable
+atable
+pldhashentryhdr
+afrom
+pldhashentryhdr
+ato
+msghdrhashelement
+from
+nsreinterpretcast
+msghdrhashelement
+afrom
+msghdrhashelement
+to
+nsreinterpretcast
+msghdrhashelement
+ato
+to
+from
+prcallback
+nsmsgdatabase
+clearentry
+pldhashtable
+atable
+pldhashentryhdr
+aentry
+msghdrhashelement
+element
+nsreinterpretcast
+msghdrhashelement
+aentry
+element
+mhdr
+nsnull
+element
+mkey
+nsmsgkeynone
+pldhashnumber
+prcallback
+pldhashstringkey
+pldhashtable
+table
+key
+prcallback
+pldhashfinalizestub
+pldhashtable
+table
+nsresult
+nsmsgdatabase
+addhdrtousecache
+nsimsgdbhdr
+hdr
+nsmsgkey
+key
+mheadersinuse
+mdbcount
+numhdrs
+msghashsize
+mmdballmsgheaderstable
+mmdballmsgheaderstable
+getcount
+getenv
+numhdrs
+mheadersinuse
+plnewdhashtable
+gmsgdbhashtableops
+nsnull
+msghdrhashelement
+prmax
+msghashsize
+numhdrs
+mheadersinuse
+key
+nsmsgkeynone
+hdr
+getmessagekey
+key
+pldhashentryhdr
+entry
+pldhashtableoperate
+mheadersinuse
+key
+pldhashadd
+entry
+nserroroutofmemory
+msghdrhashelement
+element
+nsreinterpretcast
+msghdrhashelement
+entry
+element
+mhdr
+hdr
+element
+mkey
+key
+nsaddref
+hdr
+nsok
+nserroroutofmemory
+nsresult
+nsmsgdatabase
+clearusehdrcache
+mheadersinuse
+pldhashtableenumerate
+mheadersinuse
+clearheaderenumerator
+nsnull
+pldhashtabledestroy
+mheadersinuse
+mheadersinuse
+nsnull
+nsok
+nsresult
+nsmsgdatabase
+removehdrfromusecache
+nsimsgdbhdr
+hdr
+nsmsgkey
+key
+mheadersinuse
+key
+nsmsgkeynone
+hdr
+getmessagekey
+key
+pldhashtableoperate
+mheadersinuse
+key
+pldhashremove
+nsok
+nsresult
+nsmsgdatabase
+createmsghdr
+nsimdbrow
+hdrrow
+nsmsgkey
+key
+nsimsgdbhdr
+result
+nsresult
+rv
+gethdrfromusecache
+key
+result
+nssucceeded
+rv
+result
+hdrrow
+release
+rv
+nsmsghdr
+msghdr
+nsmsghdr
+hdrrow
+msghdr
+nserroroutofmemory
+msghdr
+setmessagekey
+key
+result
+msghdr
+addhdrtocache
+msghdr
+key
+nsok
+nsimethodimp
+nsmsgdatabase
+addlistener
+nsidbchangelistener
+listener
+mchangelisteners
+nsnull
+nsnewisupportsarray
+getteraddrefs
+mchangelisteners
+mchangelisteners
+nserroroutofmemory
+mchangelisteners
+indexof
+listener
+nsok
+mchangelisteners
+appendelement
+listener
+nsimethodimp
+nsmsgdatabase
+removelistener
+nsidbchangelistener
+listener
+mchangelisteners
+mchangelisteners
+removeelement
+listener
+nsok
+nsimethodimp
+nsmsgdatabase
+notifykeychangeall
+nsmsgkey
+keychanged
+pruint
+oldflags
+pruint
+newflags
+nsidbchangelistener
+instigator
+mchangelisteners
+nsok
+pruint
+count
+mchangelisteners
+count
+count
+pruint
+count
+nscomptr
+nsidbchangelistener
+changelistener
+mchangelisteners
+queryelementat
+nsgetiid
+nsidbchangelistener
+getteraddrefs
+changelistener
+nsresult
+rv
+changelistener
+onkeychange
+keychanged
+oldflags
+newflags
+instigator
+nsfailed
+rv
+rv
+nsok
+nsimethodimp
+nsmsgdatabase
+notifyreadchanged
+nsidbchangelistener
+instigator
+mchangelisteners
+nsnull
+nsok
+pruint
+count
+mchangelisteners
+count
+count
+pruint
+count
+nscomptr
+nsidbchangelistener
+changelistener
+mchangelisteners
+queryelementat
+nsgetiid
+nsidbchangelistener
+getteraddrefs
+changelistener
+nsresult
+rv
+changelistener
+onreadchanged
+instigator
+nsfailed
+rv
+rv
+nsok
+nsimethodimp
+nsmsgdatabase
+notifyjunkscorechanged
+nsidbchangelistener
+instigator
+mchangelisteners
+nsnull
+nsok
+pruint
+count
+mchangelisteners
+count
+count
+pruint
+count
+nscomptr
+nsidbchangelistener
+changelistener
+mchangelisteners
+queryelementat
+nsgetiid
+nsidbchangelistener
+getteraddrefs
+changelistener
+nsresult
+rv
+changelistener
+onjunkscorechanged
+instigator
+nsfailed
+rv
+rv
+nsok
+nsimethodimp
+nsmsgdatabase
+notifykeydeletedall
+nsmsgkey
+keydeleted
+nsmsgkey
+parentkey
+print
+flags
+nsidbchangelistener
+instigator
+mchangelisteners
+nsnull
+nsok
+pruint
+count
+mchangelisteners
+count
+count
+pruint
+count
+nscomptr
+nsidbchangelistener
+changelistener
+mchangelisteners
+queryelementat
+nsgetiid
+nsidbchangelistener
+getteraddrefs
+changelistener
+nsresult
+rv
+changelistener
+onkeydeleted
+keydeleted
+parentkey
+flags
+instigator
+nsfailed
+rv
+rv
+nsok
+nsimethodimp
+nsmsgdatabase
+notifykeyaddedall
+nsmsgkey
+keyadded
+nsmsgkey
+parentkey
+print
+flags
+nsidbchangelistener
+instigator
+ifdef
+debugbienvenu
+printf
+notifying
+add
+of
+ld
+parent
+ld
+keyadded
+parentkey
+endif
+mchangelisteners
+nsnull
+nsok
+pruint
+count
+mchangelisteners
+count
+count
+pruint
+count
+nscomptr
+nsidbchangelistener
+changelistener
+mchangelisteners
+queryelementat
+nsgetiid
+nsidbchangelistener
+getteraddrefs
+changelistener
+nsresult
+rv
+changelistener
+onkeyadded
+keyadded
+parentkey
+flags
+instigator
+nsfailed
+rv
+rv
+nsok
+nsimethodimp
+nsmsgdatabase
+notifyparentchangedall
+nsmsgkey
+keyreparented
+nsmsgkey
+oldparent
+nsmsgkey
+newparent
+nsidbchangelistener
+instigator
+mchangelisteners
+nsnull
+nsok
+pruint
+count
+mchangelisteners
+count
+count
+count
+nsok
+pruint
+count
+nscomptr
+nsidbchangelistener
+changelistener
+mchangelisteners
+queryelementat
+nsgetiid
+nsidbchangelistener
+getteraddrefs
+changelistener
+nsresult
+rv
+changelistener
+onparentchanged
+keyreparented
+oldparent
+newparent
+instigator
+nsfailed
+rv
+rv
+nsok
+nsimethodimp
+nsmsgdatabase
+notifyannouncergoingaway
+mchangelisteners
+nsnull
+nsok
+pruint
+count
+mchangelisteners
+count
+count
+count
+nsok
+pruint
+count
+nscomptr
+nsidbchangelistener
+changelistener
+mchangelisteners
+queryelementat
+nsgetiid
+nsidbchangelistener
+getteraddrefs
+changelistener
+changelistener
+nsresult
+rv
+changelistener
+onannouncergoingaway
+nsensuresuccess
+rv
+rv
+nsok
+nsvoidarray
+nsmsgdatabase
+mdbcache
+nsvoidarray
+nsmsgdatabase
+getdbcache
+mdbcache
+mdbcache
+nsvoidarray
+mdbcache
+nsmsgdatabase
+cleanupcache
+mdbcache
+print
+getdbcache
+count
+nsmsgdatabase
+pmessagedb
+nsstaticcast
+nsmsgdatabase
+getdbcache
+elementat
+pmessagedb
+nscomptr
+nsimsgdatabase
+kungfugrip
+pmessagedb
+pmessagedb
+mfolder
+nsnull
+pmessagedb
+forceclosed
+kungfugrip
+nsnull
+findincache
+pmessagedb
+print
+saverefcnt
+pmessagedb
+mrefcnt
+saverefcnt
+nsmsgdatabase
+savedb
+pmessagedb
+nsrelease
+savedb
+nsassertion
+getnumincache
+some
+msg
+dbs
+left
+open
+mdbcache
+mdbcache
+nsnull
+nsmsgdatabase
+nsmsgdatabase
+findincache
+nsfilespec
+dbname
+print
+getdbcache
+count
+nsmsgdatabase
+pmessagedb
+nsstaticcast
+nsmsgdatabase
+getdbcache
+elementat
+pmessagedb
+matchdbname
+dbname
+pmessagedb
+mmdbstore
+nsaddref
+pmessagedb
+pmessagedb
+nsnull
+nsmsgdatabase
+findincache
+nsmsgdatabase
+pmessagedb
+print
+getdbcache
+count
+getdbcache
+elementat
+pmessagedb
+prbool
+nsmsgdatabase
+matchdbname
+nsfilespec
+dbname
+mdbname
+dbname
+nsmsgdatabase
+removefromcache
+nsmsgdatabase
+pmessagedb
+findincache
+pmessagedb
+getdbcache
+removeelementat
+ifdef
+debug
+nsmsgdatabase
+dumpcache
+nsmsgdatabase
+pmessagedb
+nsnull
+print
+getdbcache
+count
+pmessagedb
+nsstaticcast
+nsmsgdatabase
+getdbcache
+elementat
+endif
+nsmsgdatabase
+nsmsgdatabase
+mdbfolderinfo
+nsnull
+mnextpseudomsgkey
+kfirstpseudokey
+mmdbenv
+nsnull
+mmdbstore
+nsnull
+mmdballmsgheaderstable
+nsnull
+mmdballthreadstable
+nsnull
+mdbname
+mnewset
+nsnull
+mmdbtokensinitialized
+prfalse
+mchangelisteners
+nsnull
+mhdrrowscopetoken
+mhdrtablekindtoken
+mthreadtablekindtoken
+msubjectcolumntoken
+msendercolumntoken
+mmessageidcolumntoken
+mreferencescolumntoken
+mrecipientscolumntoken
+mdatecolumntoken
+mmessagesizecolumntoken
+mflagscolumntoken
+mprioritycolumntoken
+mlabelcolumntoken
+mstatusoffsetcolumntoken
+mnumlinescolumntoken
+mcclistcolumntoken
+mthreadflagscolumntoken
+mthreadidcolumntoken
+mthreadchildrencolumntoken
+mthreadunreadchildrencolumntoken
+mmessagethreadidcolumntoken
+mthreadsubjectcolumntoken
+mnumreferencescolumntoken
+mmessagecharsetcolumntoken
+mthreadparentcolumntoken
+mthreadrootkeycolumntoken
+mofflinemsgoffsetcolumntoken
+mofflinemessagesizecolumntoken
+mheaderparser
+nsnull
+mheadersinuse
+nsnull
+mcachedheaders
+nsnull
+mbcacheheaders
+prtrue
+mcachedthreadid
+nsmsgkeynone
+mcachesize
+kmaxhdrsincache
+nsmsgdatabase
+nsmsgdatabase
+clearcachedobjects
+prtrue
+mcachedheaders
+mheadersinuse
+removefromcache
+ifdef
+debugbienvenu
+getnumincache
+xptrace
+closing
+mdbname
+dumpcache
+endif
+nsifrelease
+mdbfolderinfo
+mheaderparser
+nsrelease
+mheaderparser
+mheaderparser
+nsnull
+mmdballmsgheaderstable
+mmdballmsgheaderstable
+release
+mmdballthreadstable
+mmdballthreadstable
+release
+mmdbstore
+mmdbstore
+release
+mmdbenv
+mmdbenv
+release
+mmdbenv
+nsnull
+mchangelisteners
+pruint
+count
+mchangelisteners
+count
+count
+nsassertion
+count
+shouldn
+have
+any
+listeners
+mchangelisteners
+nsnull
+mnewset
+ifdef
+debugmsgkeyset
+str
+nsnull
+nsresult
+rv
+mnewset
+output
+str
+nssucceeded
+rv
+str
+printf
+setstr
+on
+destroy
+str
+nsmemory
+free
+str
+str
+nsnull
+endif
+mnewset
+mnewset
+nsnull
+nsimpladdref
+nsmsgdatabase
+nsimplrelease
+nsmsgdatabase
+nsimethodimp
+nsmsgdatabase
+queryinterface
+refnsiid
+aiid
+aresult
+aresult
+nserrornullpointer
+aiid
+equals
+nsgetiid
+nsimsgdatabase
+aiid
+equals
+nsgetiid
+nsidbchangeannouncer
+aiid
+equals
+nsgetiid
+nsisupports
+aresult
+nsstaticcast
+nsimsgdatabase
+nsaddrefthis
+nsok
+nsnointerface
+nsimdbfactory
+nsmsgdatabase
+getmdbfactory
+nsimdbfactory
+gmdbfactory
+nsnull
+gmdbfactory
+nscomptr
+nsimdbfactoryfactory
+factoryfactory
+nsresult
+rv
+nscomponentmanager
+createinstance
+kcmorkfactory
+nsnull
+nsgetiid
+nsimdbfactoryfactory
+getteraddrefs
+factoryfactory
+nssucceeded
+rv
+factoryfactory
+rv
+factoryfactory
+getmdbfactory
+gmdbfactory
+gmdbfactory
+defined
+xpwin
+defined
+xpos
+nsmsgdatabase
+unixtonative
+iopath
+iopath
+iopath
+src
+iopath
+iopath
+src
+cp
+src
+iopath
+strstr
+cp
+cp
+cp
+cp
+cp
+cp
+iopath
+cp
+iopath
+cp
+cp
+cp
+cp
+endif
+ifdef
+xpmac
+nsmsgdatabase
+unixtonative
+iopath
+sizet
+len
+strlen
+iopath
+result
+len
+result
+dst
+result
+src
+iopath
+src
+src
+strchr
+src
+dst
+strcpy
+dst
+src
+dst
+dst
+dst
+dst
+nscrt
+free
+iopath
+iopath
+result
+endif
+nsimethodimp
+nsmsgdatabase
+openfolderdb
+nsimsgfolder
+folder
+prbool
+create
+prbool
+upgrading
+nsimsgdatabase
+pmessagedb
+nsensurearg
+folder
+mfolder
+folder
+nscomptr
+nsifilespec
+folderpath
+nsresult
+rv
+folder
+getpath
+getteraddrefs
+folderpath
+nsensuresuccess
+rv
+rv
+open
+folderpath
+create
+upgrading
+pmessagedb
+nsimethodimp
+nsmsgdatabase
+open
+nsifilespec
+foldername
+prbool
+create
+prbool
+upgrading
+nsimsgdatabase
+pmessagedb
+nsassertion
+prfalse
+must
+override
+nserrornotimplemented
+nsresult
+nsmsgdatabase
+openmdb
+dbname
+prbool
+create
+nsresult
+ret
+nsok
+nsimdbfactory
+mymdbfactory
+getmdbfactory
+mymdbfactory
+ret
+mymdbfactory
+makeenv
+mmdbenv
+nssucceeded
+ret
+nsimdbthumb
+thumb
+nsnull
+stat
+st
+nativefilename
+nscrt
+strdup
+dbname
+nsimdbheap
+dbheap
+mdbbool
+dbfrozen
+mdbboolkfalse
+nativefilename
+nserroroutofmemory
+mmdbenv
+mmdbenv
+setautoclear
+prtrue
+mdbname
+dbname
+defined
+xpwin
+defined
+xpos
+defined
+xpmac
+unixtonative
+nativefilename
+endif
+stat
+nativefilename
+st
+ret
+nsmsgerrorfoldersummarymissing
+mdbopenpolicy
+inopenpolicy
+mdbbool
+canopen
+mdbyarn
+outformatversion
+nsimdbfile
+oldfile
+ret
+mymdbfactory
+openoldfile
+mmdbenv
+dbheap
+nativefilename
+dbfrozen
+oldfile
+oldfile
+ret
+nsok
+ret
+mymdbfactory
+canopenfileport
+mmdbenv
+oldfile
+canopen
+outformatversion
+ret
+canopen
+inopenpolicy
+mopenpolicyscopeplan
+mscopestringsetcount
+inopenpolicy
+mopenpolicyminmemory
+inopenpolicy
+mopenpolicymaxlazy
+ret
+mymdbfactory
+openfilestore
+mmdbenv
+dbheap
+oldfile
+inopenpolicy
+thumb
+ret
+nsmsgerrorfoldersummaryoutofdate
+nsrelease
+oldfile
+nssucceeded
+ret
+thumb
+mdbcount
+outtotal
+mdbcount
+outcurrent
+mdbbool
+outdone
+prfalse
+mdbbool
+outbroken
+ret
+thumb
+domore
+mmdbenv
+outtotal
+outcurrent
+outdone
+outbroken
+ret
+outdone
+prtrue
+nssucceeded
+ret
+outbroken
+outdone
+ret
+outdone
+ret
+mymdbfactory
+thumbtoopenstore
+mmdbenv
+thumb
+mmdbstore
+ret
+nsok
+mmdbstore
+ret
+initexistingdb
+ifdef
+debugbienvenu
+dumpcontents
+endif
+create
+nsimdbfile
+newfile
+ret
+mymdbfactory
+createnewfile
+mmdbenv
+dbheap
+dbname
+newfile
+newfile
+ret
+nsok
+mdbopenpolicy
+inopenpolicy
+inopenpolicy
+mopenpolicyscopeplan
+mscopestringsetcount
+inopenpolicy
+mopenpolicyminmemory
+inopenpolicy
+mopenpolicymaxlazy
+ret
+mymdbfactory
+createnewfilestore
+mmdbenv
+dbheap
+newfile
+inopenpolicy
+mmdbstore
+ret
+nsok
+ret
+initnewdb
+nsrelease
+newfile
+nsifrelease
+thumb
+nscrt
+free
+nativefilename
+ret
+nsresult
+nsmsgdatabase
+closemdb
+prbool
+commit
+commit
+commit
+nsmsgdbcommittype
+ksessioncommit
+nsok
+nsimethodimp
+nsmsgdatabase
+forceclosed
+nsresult
+err
+nsok
+nscomptr
+nsimsgdatabase
+adb
+doqueryinterface
+err
+addref
+notifyannouncergoingaway
+mdbfolderinfo
+mdbfolderinfo
+releaseexternalreferences
+nsifrelease
+mdbfolderinfo
+err
+closemdb
+prfalse
+clearcachedobjects
+prtrue
+mmdballmsgheaderstable
+mmdballmsgheaderstable
+release
+mmdballmsgheaderstable
+nsnull
+mmdballthreadstable
+mmdballthreadstable
+release
+mmdballthreadstable
+nsnull
+mmdbstore
+mmdbstore
+release
+mmdbstore
+nsnull
+mchangelisteners
+pruint
+count
+mchangelisteners
+count
+count
+nsassertion
+count
+shouldn
+have
+any
+listeners
+left
+release
+err
+nsimethodimp
+nsmsgdatabase
+getdbfolderinfo
+nsidbfolderinfo
+result
+result
+mdbfolderinfo
+mdbfolderinfo
+mdbfolderinfo
+addref
+nsok
+nsassertion
+prfalse
+db
+must
+be
+corrupt
+nserrornullpointer
+nsimethodimp
+nsmsgdatabase
+commit
+nsmsgdbcommit
+committype
+nsresult
+err
+nsok
+nsimdbthumb
+committhumb
+ifdef
+debugseth
+printf
+nsmsgdatabase
+commit
+committype
+endif
+committype
+nsmsgdbcommittype
+klargecommit
+committype
+nsmsgdbcommittype
+ksessioncommit
+mdbpercent
+outactualwaste
+mdbbool
+outshould
+mmdbstore
+err
+mmdbstore
+shouldcompress
+getenv
+outactualwaste
+outshould
+nssucceeded
+err
+outshould
+committype
+nsmsgdbcommittype
+kcompresscommit
+mmdbstore
+committype
+nsmsgdbcommittype
+ksmallcommit
+err
+mmdbstore
+smallcommit
+getenv
+nsmsgdbcommittype
+klargecommit
+err
+mmdbstore
+largecommit
+getenv
+committhumb
+nsmsgdbcommittype
+ksessioncommit
+err
+mmdbstore
+sessioncommit
+getenv
+committhumb
+nsmsgdbcommittype
+kcompresscommit
+err
+mmdbstore
+compresscommit
+getenv
+committhumb
+committhumb
+mdbcount
+outtotal
+mdbcount
+outcurrent
+mdbbool
+outdone
+prfalse
+mdbbool
+outbroken
+prfalse
+outdone
+outbroken
+err
+nsok
+err
+committhumb
+domore
+getenv
+outtotal
+outcurrent
+outdone
+outbroken
+nsifrelease
+committhumb
+getenv
+getenv
+clearerrors
+nsresult
+rv
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nssucceeded
+rv
+accountmanager
+nscomptr
+nsimsgfoldercache
+foldercache
+rv
+accountmanager
+getfoldercache
+getteraddrefs
+foldercache
+nssucceeded
+rv
+foldercache
+nscomptr
+nsimsgfoldercacheelement
+cacheelement
+rv
+foldercache
+getcacheelement
+mdbname
+prfalse
+getteraddrefs
+cacheelement
+nssucceeded
+rv
+cacheelement
+mdbfolderinfo
+print
+totalmessages
+unreadmessages
+pendingmessages
+pendingunreadmessages
+mdbfolderinfo
+getnummessages
+totalmessages
+mdbfolderinfo
+getnumnewmessages
+unreadmessages
+mdbfolderinfo
+getimapunreadpendingmessages
+pendingunreadmessages
+mdbfolderinfo
+getimaptotalpendingmessages
+pendingmessages
+cacheelement
+setintproperty
+totalmsgs
+totalmessages
+cacheelement
+setintproperty
+totalunreadmsgs
+unreadmessages
+cacheelement
+setintproperty
+pendingmsgs
+pendingmessages
+cacheelement
+setintproperty
+pendingunreadmsgs
+pendingunreadmessages
+foldercache
+commit
+prfalse
+err
+nsimethodimp
+nsmsgdatabase
+close
+prbool
+forcecommit
+closemdb
+forcecommit
+kmsghdrsscope
+ns
+msg
+db
+row
+scope
+msgs
+all
+kmsghdrstablekind
+ns
+msg
+db
+table
+kind
+msgs
+kthreadtablekind
+ns
+msg
+db
+table
+kind
+thread
+kthreadhdrsscope
+ns
+msg
+db
+row
+scope
+threads
+all
+kallthreadstablekind
+ns
+msg
+db
+table
+kind
+allthreads
+ksubjectcolumnname
+subject
+ksendercolumnname
+sender
+kmessageidcolumnname
+message
+id
+kreferencescolumnname
+references
+krecipientscolumnname
+recipients
+kdatecolumnname
+date
+kmessagesizecolumnname
+size
+kflagscolumnname
+flags
+kprioritycolumnname
+priority
+klabelcolumnname
+label
+kstatusoffsetcolumnname
+statusofset
+knumlinescolumnname
+numlines
+kcclistcolumnname
+cclist
+kmessagethreadidcolumnname
+msgthreadid
+knumreferencescolumnname
+numrefs
+kthreadflagscolumnname
+threadflags
+kthreadidcolumnname
+threadid
+kthreadchildrencolumnname
+children
+kthreadunreadchildrencolumnname
+unreadchildren
+kthreadsubjectcolumnname
+threadsubject
+kmessagecharsetcolumnname
+msgcharset
+kthreadparentcolumnname
+threadparent
+kthreadrootcolumnname
+threadroot
+kofflinemsgoffsetcolumnname
+msgoffset
+kofflinemsgsizecolumnname
+offlinemsgsize
+mdboid
+gallmsghdrstableoid
+mdboid
+gallthreadstableoid
+nsresult
+nsmsgdatabase
+initnewdb
+nsresult
+err
+nsok
+err
+initmdbinfo
+err
+nsok
+nsdbfolderinfo
+dbfolderinfo
+nsdbfolderinfo
+dbfolderinfo
+nsaddref
+dbfolderinfo
+err
+dbfolderinfo
+addtonewmdb
+dbfolderinfo
+setversion
+getcurversion
+nsimdbstore
+store
+getstore
+mdberr
+mdberr
+mdboid
+allmsghdrstableoid
+mdboid
+allthreadstableoid
+store
+nserrornullpointer
+allmsghdrstableoid
+moidscope
+mhdrrowscopetoken
+allmsghdrstableoid
+moidid
+kallmsghdrstablekey
+allthreadstableoid
+moidscope
+mthreadrowscopetoken
+allthreadstableoid
+moidid
+kallthreadstablekey
+mdberr
+store
+newtablewithoid
+getenv
+allmsghdrstableoid
+mhdrtablekindtoken
+prfalse
+nsnull
+mmdballmsgheaderstable
+store
+newtablewithoid
+getenv
+allthreadstableoid
+mallthreadstablekindtoken
+prfalse
+nsnull
+mmdballthreadstable
+mdbfolderinfo
+dbfolderinfo
+err
+nserroroutofmemory
+err
+nsresult
+nsmsgdatabase
+initexistingdb
+nsresult
+err
+nsok
+err
+initmdbinfo
+err
+nsok
+err
+getstore
+gettable
+getenv
+gallmsghdrstableoid
+mmdballmsgheaderstable
+err
+nsok
+mdbfolderinfo
+nsdbfolderinfo
+mdbfolderinfo
+nsaddref
+mdbfolderinfo
+err
+mdbfolderinfo
+initfromexistingdb
+err
+nserrorfailure
+nssucceeded
+err
+mmdballmsgheaderstable
+mdboid
+allmsghdrstableoid
+allmsghdrstableoid
+moidscope
+mhdrrowscopetoken
+allmsghdrstableoid
+moidid
+kallmsghdrstablekey
+mdberr
+mdberr
+getstore
+newtablewithoid
+getenv
+allmsghdrstableoid
+mhdrtablekindtoken
+prfalse
+nsnull
+mmdballmsgheaderstable
+mdberr
+nsok
+mmdballmsgheaderstable
+err
+nserrorfailure
+mdboid
+allthreadstableoid
+allthreadstableoid
+moidscope
+mthreadrowscopetoken
+allthreadstableoid
+moidid
+kallthreadstablekey
+err
+getstore
+gettable
+getenv
+gallthreadstableoid
+mmdballthreadstable
+mmdballthreadstable
+mdberr
+mdberr
+getstore
+newtablewithoid
+getenv
+allthreadstableoid
+mallthreadstablekindtoken
+prfalse
+nsnull
+mmdballthreadstable
+mdberr
+nsok
+mmdballthreadstable
+err
+nserrorfailure
+err
+nsresult
+nsmsgdatabase
+initmdbinfo
+nsresult
+err
+nsok
+mmdbtokensinitialized
+getstore
+mmdbtokensinitialized
+prtrue
+err
+getstore
+stringtotoken
+getenv
+kmsghdrsscope
+mhdrrowscopetoken
+err
+nsok
+getstore
+stringtotoken
+getenv
+ksubjectcolumnname
+msubjectcolumntoken
+getstore
+stringtotoken
+getenv
+ksendercolumnname
+msendercolumntoken
+getstore
+stringtotoken
+getenv
+kmessageidcolumnname
+mmessageidcolumntoken
+getstore
+stringtotoken
+getenv
+kreferencescolumnname
+mreferencescolumntoken
+getstore
+stringtotoken
+getenv
+krecipientscolumnname
+mrecipientscolumntoken
+getstore
+stringtotoken
+getenv
+kdatecolumnname
+mdatecolumntoken
+getstore
+stringtotoken
+getenv
+kmessagesizecolumnname
+mmessagesizecolumntoken
+getstore
+stringtotoken
+getenv
+kflagscolumnname
+mflagscolumntoken
+getstore
+stringtotoken
+getenv
+kprioritycolumnname
+mprioritycolumntoken
+getstore
+stringtotoken
+getenv
+klabelcolumnname
+mlabelcolumntoken
+getstore
+stringtotoken
+getenv
+kstatusoffsetcolumnname
+mstatusoffsetcolumntoken
+getstore
+stringtotoken
+getenv
+knumlinescolumnname
+mnumlinescolumntoken
+getstore
+stringtotoken
+getenv
+kcclistcolumnname
+mcclistcolumntoken
+getstore
+stringtotoken
+getenv
+kmessagethreadidcolumnname
+mmessagethreadidcolumntoken
+getstore
+stringtotoken
+getenv
+kthreadidcolumnname
+mthreadidcolumntoken
+getstore
+stringtotoken
+getenv
+kthreadflagscolumnname
+mthreadflagscolumntoken
+getstore
+stringtotoken
+getenv
+kthreadchildrencolumnname
+mthreadchildrencolumntoken
+getstore
+stringtotoken
+getenv
+kthreadunreadchildrencolumnname
+mthreadunreadchildrencolumntoken
+getstore
+stringtotoken
+getenv
+kthreadsubjectcolumnname
+mthreadsubjectcolumntoken
+getstore
+stringtotoken
+getenv
+knumreferencescolumnname
+mnumreferencescolumntoken
+getstore
+stringtotoken
+getenv
+kmessagecharsetcolumnname
+mmessagecharsetcolumntoken
+err
+getstore
+stringtotoken
+getenv
+kmsghdrstablekind
+mhdrtablekindtoken
+err
+nsok
+err
+getstore
+stringtotoken
+getenv
+kthreadtablekind
+mthreadtablekindtoken
+err
+getstore
+stringtotoken
+getenv
+kallthreadstablekind
+mallthreadstablekindtoken
+err
+getstore
+stringtotoken
+getenv
+kthreadhdrsscope
+mthreadrowscopetoken
+err
+getstore
+stringtotoken
+getenv
+kthreadparentcolumnname
+mthreadparentcolumntoken
+err
+getstore
+stringtotoken
+getenv
+kthreadrootcolumnname
+mthreadrootkeycolumntoken
+err
+getstore
+stringtotoken
+getenv
+kofflinemsgoffsetcolumnname
+mofflinemsgoffsetcolumntoken
+err
+getstore
+stringtotoken
+getenv
+kofflinemsgsizecolumnname
+mofflinemessagesizecolumntoken
+err
+nsok
+gallmsghdrstableoid
+moidscope
+mhdrrowscopetoken
+gallmsghdrstableoid
+moidid
+kallmsghdrstablekey
+gallthreadstableoid
+moidscope
+mthreadrowscopetoken
+gallthreadstableoid
+moidid
+kallthreadstablekey
+err
+nsimethodimp
+nsmsgdatabase
+containskey
+nsmsgkey
+key
+prbool
+containskey
+nsresult
+err
+nsok
+mdbbool
+hasoid
+mdboid
+rowobjectid
+containskey
+mmdballmsgheaderstable
+nserrornullpointer
+containskey
+prfalse
+rowobjectid
+moidid
+key
+rowobjectid
+moidscope
+mhdrrowscopetoken
+err
+mmdballmsgheaderstable
+hasoid
+getenv
+rowobjectid
+hasoid
+nssucceeded
+err
+containskey
+hasoid
+err
+nsimethodimp
+nsmsgdatabase
+getmsghdrforkey
+nsmsgkey
+key
+nsimsgdbhdr
+pmsghdr
+nsresult
+err
+nsok
+mdbbool
+hasoid
+mdboid
+rowobjectid
+ifdef
+debugbienvenu
+nsassertion
+mfolder
+folder
+should
+be
+set
+endif
+pmsghdr
+mmdballmsgheaderstable
+nserrornullpointer
+pmsghdr
+err
+gethdrfromusecache
+key
+pmsghdr
+nssucceeded
+err
+pmsghdr
+err
+rowobjectid
+moidid
+key
+rowobjectid
+moidscope
+mhdrrowscopetoken
+err
+mmdballmsgheaderstable
+hasoid
+getenv
+rowobjectid
+hasoid
+err
+nsok
+mmdbstore
+nsimdbrow
+hdrrow
+err
+mmdbstore
+getrow
+getenv
+rowobjectid
+hdrrow
+err
+nsok
+hdrrow
+err
+nserrornullpointer
+err
+createmsghdr
+hdrrow
+key
+pmsghdr
+err
+nsimethodimp
+nsmsgdatabase
+startbatch
+nsok
+nsimethodimp
+nsmsgdatabase
+endbatch
+nsok
+nsimethodimp
+nsmsgdatabase
+deletemessage
+nsmsgkey
+key
+nsidbchangelistener
+instigator
+prbool
+commit
+nscomptr
+nsimsgdbhdr
+msghdr
+nsresult
+rv
+getmsghdrforkey
+key
+getteraddrefs
+msghdr
+msghdr
+nsmsgmessagenotfound
+rv
+deleteheader
+msghdr
+instigator
+commit
+prtrue
+rv
+nsimethodimp
+nsmsgdatabase
+deletemessages
+nsmsgkeyarray
+nsmsgkeys
+nsidbchangelistener
+instigator
+nsresult
+err
+nsok
+pruint
+kindex
+kindex
+kindex
+nsmsgkeys
+getsize
+kindex
+nsmsgkey
+key
+nsmsgkeys
+elementat
+kindex
+nscomptr
+nsimsgdbhdr
+msghdr
+prbool
+haskey
+nssucceeded
+containskey
+key
+haskey
+haskey
+err
+getmsghdrforkey
+key
+getteraddrefs
+msghdr
+nsfailed
+err
+err
+nsmsgmessagenotfound
+msghdr
+err
+deleteheader
+msghdr
+instigator
+kindex
+prtrue
+err
+nsok
+commit
+nsmsgdbcommittype
+ksmallcommit
+err
+nsresult
+nsmsgdatabase
+adjustexpungedbytesondelete
+nsimsgdbhdr
+msghdr
+pruint
+size
+msghdr
+getmessagesize
+size
+mdbfolderinfo
+changeexpungedbytes
+size
+nsimethodimp
+nsmsgdatabase
+deleteheader
+nsimsgdbhdr
+msg
+nsidbchangelistener
+instigator
+prbool
+commit
+prbool
+notify
+nsmsghdr
+msghdr
+nsstaticcast
+nsmsghdr
+msg
+nsmsgkey
+key
+msg
+getmessagekey
+key
+sethdrflag
+msg
+prtrue
+msgflagexpunged
+mnewset
+mnewset
+remove
+key
+mdbfolderinfo
+prbool
+isread
+mdbfolderinfo
+changenummessages
+mdbfolderinfo
+changenumvisiblemessages
+isread
+key
+isread
+isread
+mdbfolderinfo
+changenumnewmessages
+adjustexpungedbytesondelete
+msg
+pruint
+flags
+nsmsgkey
+threadparent
+notify
+msg
+getflags
+flags
+msg
+getthreadparent
+threadparent
+removeheaderfromthread
+msghdr
+notify
+notifykeydeletedall
+key
+threadparent
+flags
+instigator
+nsresult
+ret
+removeheaderfromdb
+msghdr
+commit
+commit
+nsmsgdbcommittype
+klargecommit
+ret
+nsimethodimp
+nsmsgdatabase
+undodelete
+nsimsgdbhdr
+amsghdr
+amsghdr
+nsmsghdr
+msghdr
+nsstaticcast
+nsmsghdr
+amsghdr
+msghdr
+mflags
+msgflagexpunged
+sethdrflag
+msghdr
+prfalse
+msgflagexpunged
+nsok
+nsresult
+nsmsgdatabase
+removeheaderfromthread
+nsmsghdr
+msghdr
+msghdr
+nserrornullpointer
+nsresult
+ret
+nsok
+nscomptr
+nsimsgthread
+thread
+ret
+getthreadcontainingmsghdr
+msghdr
+getteraddrefs
+thread
+nssucceeded
+ret
+thread
+nscomptr
+nsidbchangeannouncer
+announcer
+doqueryinterface
+ret
+thread
+removechildhdr
+msghdr
+announcer
+ret
+nsimethodimp
+nsmsgdatabase
+removeheadermdbrow
+nsimsgdbhdr
+msg
+nsensureargpointer
+msg
+nsmsghdr
+msghdr
+nsstaticcast
+nsmsghdr
+msg
+removeheaderfromdb
+msghdr
+nsresult
+nsmsgdatabase
+removeheaderfromdb
+nsmsghdr
+msghdr
+msghdr
+nserrornullpointer
+nsresult
+ret
+nsok
+removehdrfromcache
+msghdr
+nsmsgkeynone
+nsimdbrow
+row
+msghdr
+getmdbrow
+ret
+mmdballmsgheaderstable
+cutrow
+getenv
+row
+row
+cutallcolumns
+getenv
+msghdr
+minitedvalues
+ret
+nsresult
+nsmsgdatabase
+isread
+nsmsgkey
+key
+prbool
+pread
+nscomptr
+nsimsgdbhdr
+msghdr
+nsresult
+rv
+getmsghdrforkey
+key
+getteraddrefs
+msghdr
+nsfailed
+rv
+msghdr
+nsmsgmessagenotfound
+rv
+isheaderread
+msghdr
+pread
+rv
+pruint
+nsmsgdatabase
+getstatusflags
+nsimsgdbhdr
+msghdr
+pruint
+origflags
+pruint
+statusflags
+origflags
+prbool
+isread
+prtrue
+nsmsgkey
+key
+msghdr
+getmessagekey
+key
+mnewset
+mnewset
+ismember
+key
+statusflags
+msgflagnew
+statusflags
+msgflagnew
+isheaderread
+msghdr
+isread
+nsok
+isread
+statusflags
+msgflagread
+statusflags
+nsresult
+nsmsgdatabase
+isheaderread
+nsimsgdbhdr
+msghdr
+prbool
+pread
+msghdr
+nsmsgmessagenotfound
+nsmsghdr
+hdr
+nsstaticcast
+nsmsghdr
+msghdr
+pruint
+flags
+hdr
+getrawflags
+flags
+pread
+flags
+msgflagread
+nsok
+nsimethodimp
+nsmsgdatabase
+ismarked
+nsmsgkey
+key
+prbool
+pmarked
+nscomptr
+nsimsgdbhdr
+msghdr
+nsresult
+rv
+getmsghdrforkey
+key
+getteraddrefs
+msghdr
+nsfailed
+rv
+nsmsgmessagenotfound
+pruint
+flags
+msghdr
+getflags
+flags
+pmarked
+flags
+msgflagmarked
+msgflagmarked
+rv
+nsimethodimp
+nsmsgdatabase
+isignored
+nsmsgkey
+key
+prbool
+pignored
+prassert
+pignored
+pignored
+nserrornullpointer
+nscomptr
+nsimsgthread
+threadhdr
+nsresult
+rv
+getthreadformsgkey
+key
+getteraddrefs
+threadhdr
+threadhdr
+nsmsgmessagenotfound
+pruint
+threadflags
+threadhdr
+getflags
+threadflags
+pignored
+threadflags
+msgflagignored
+prtrue
+prfalse
+rv
+nsresult
+nsmsgdatabase
+hasattachments
+nsmsgkey
+key
+prbool
+phasthem
+nsensureargpointer
+phasthem
+nscomptr
+nsimsgdbhdr
+msghdr
+nsresult
+rv
+getmsghdrforkey
+key
+getteraddrefs
+msghdr
+nsfailed
+rv
+rv
+pruint
+flags
+msghdr
+getflags
+flags
+phasthem
+flags
+msgflagattachment
+prtrue
+prfalse
+rv
+prbool
+nsmsgdatabase
+sethdrreadflag
+nsimsgdbhdr
+msghdr
+prbool
+bread
+sethdrflag
+msghdr
+bread
+msgflagread
+nsresult
+nsmsgdatabase
+markhdrreadindb
+nsimsgdbhdr
+msghdr
+prbool
+bread
+nsidbchangelistener
+instigator
+nsresult
+rv
+nsmsgkey
+key
+pruint
+oldflags
+prbool
+hdrindb
+msghdr
+getmessagekey
+key
+msghdr
+getflags
+oldflags
+mnewset
+mnewset
+remove
+key
+containskey
+key
+hdrindb
+hdrindb
+mdbfolderinfo
+bread
+mdbfolderinfo
+changenumnewmessages
+mdbfolderinfo
+changenumnewmessages
+sethdrreadflag
+msghdr
+bread
+pruint
+flags
+rv
+msghdr
+getflags
+flags
+flags
+msgflagnew
+msghdr
+setflags
+flags
+nsfailed
+rv
+rv
+oldflags
+flags
+nsok
+notifykeychangeall
+key
+oldflags
+flags
+instigator
+nsimethodimp
+nsmsgdatabase
+markread
+nsmsgkey
+key
+prbool
+bread
+nsidbchangelistener
+instigator
+nsresult
+rv
+nscomptr
+nsimsgdbhdr
+msghdr
+rv
+getmsghdrforkey
+key
+getteraddrefs
+msghdr
+nsfailed
+rv
+msghdr
+nsmsgmessagenotfound
+rv
+markhdrread
+msghdr
+bread
+instigator
+rv
+nsimethodimp
+nsmsgdatabase
+markreplied
+nsmsgkey
+key
+prbool
+breplied
+nsidbchangelistener
+instigator
+setkeyflag
+key
+breplied
+msgflagreplied
+instigator
+nsimethodimp
+nsmsgdatabase
+markforwarded
+nsmsgkey
+key
+prbool
+bforwarded
+nsidbchangelistener
+instigator
+setkeyflag
+key
+bforwarded
+msgflagforwarded
+instigator
+nsimethodimp
+nsmsgdatabase
+markhasattachments
+nsmsgkey
+key
+prbool
+bhasattachments
+nsidbchangelistener
+instigator
+setkeyflag
+key
+bhasattachments
+msgflagattachment
+instigator
+nsimethodimp
+nsmsgdatabase
+markthreadread
+nsimsgthread
+thread
+nsidbchangelistener
+instigator
+nsmsgkeyarray
+thosemarked
+thread
+nserrornullpointer
+nsresult
+rv
+nsok
+pruint
+numchildren
+thread
+getnumchildren
+numchildren
+pruint
+curchildindex
+curchildindex
+numchildren
+curchildindex
+nscomptr
+nsimsgdbhdr
+child
+rv
+thread
+getchildat
+curchildindex
+getteraddrefs
+child
+nssucceeded
+rv
+child
+prbool
+isread
+prtrue
+isheaderread
+child
+isread
+isread
+thosemarked
+nsmsgkey
+key
+nssucceeded
+child
+getmessagekey
+key
+thosemarked
+add
+key
+markhdrread
+child
+prtrue
+instigator
+rv
+nsimethodimp
+nsmsgdatabase
+markthreadignored
+nsimsgthread
+thread
+nsmsgkey
+threadkey
+prbool
+bignored
+nsidbchangelistener
+instigator
+nsensurearg
+thread
+pruint
+threadflags
+thread
+getflags
+threadflags
+pruint
+oldthreadflags
+threadflags
+bignored
+threadflags
+msgflagignored
+threadflags
+msgflagwatched
+threadflags
+msgflagignored
+thread
+setflags
+threadflags
+notifykeychangeall
+threadkey
+oldthreadflags
+threadflags
+instigator
+nsok
+nsimethodimp
+nsmsgdatabase
+markthreadwatched
+nsimsgthread
+thread
+nsmsgkey
+threadkey
+prbool
+bwatched
+nsidbchangelistener
+instigator
+nsensurearg
+thread
+pruint
+threadflags
+thread
+getflags
+threadflags
+pruint
+oldthreadflags
+threadflags
+bwatched
+threadflags
+msgflagwatched
+threadflags
+msgflagignored
+threadflags
+msgflagwatched
+notifykeychangeall
+threadkey
+oldthreadflags
+threadflags
+instigator
+thread
+setflags
+threadflags
+nsok
+nsimethodimp
+nsmsgdatabase
+markmarked
+nsmsgkey
+key
+prbool
+mark
+nsidbchangelistener
+instigator
+setkeyflag
+key
+mark
+msgflagmarked
+instigator
+nsimethodimp
+nsmsgdatabase
+markoffline
+nsmsgkey
+key
+prbool
+offline
+nsidbchangelistener
+instigator
+setkeyflag
+key
+offline
+msgflagoffline
+instigator
+nsimethodimp
+nsmsgdatabase
+setstringproperty
+nsmsgkey
+akey
+aproperty
+avalue
+nscomptr
+nsimsgdbhdr
+msghdr
+nsresult
+rv
+getmsghdrforkey
+akey
+getteraddrefs
+msghdr
+nsfailed
+rv
+msghdr
+nsmsgmessagenotfound
+nsxpidlcstring
+oldvalue
+rv
+msghdr
+getstringproperty
+aproperty
+gettercopies
+oldvalue
+nsensuresuccess
+rv
+rv
+strcmp
+avalue
+oldvalue
+get
+nsok
+rv
+msghdr
+setstringproperty
+aproperty
+avalue
+nsensuresuccess
+rv
+rv
+strcmp
+aproperty
+junkscore
+notifyjunkscorechanged
+nsnull
+pruint
+flags
+msghdr
+getflags
+flags
+notifykeychangeall
+akey
+flags
+flags
+nsnull
+rv
+nsimethodimp
+nsmsgdatabase
+setlabel
+nsmsgkey
+key
+nsmsglabelvalue
+label
+nsresult
+rv
+nscomptr
+nsimsgdbhdr
+msghdr
+rv
+getmsghdrforkey
+key
+getteraddrefs
+msghdr
+nsfailed
+rv
+msghdr
+nsmsgmessagenotfound
+msghdr
+setlabel
+label
+setkeyflag
+key
+prtrue
+label
+nsnull
+nsimethodimp
+nsmsgdatabase
+allmsgkeysimapdeleted
+nsmsgkeyarray
+keys
+prbool
+allkeysdeleted
+keys
+allkeysdeleted
+nserrornullpointer
+pruint
+kindex
+kindex
+keys
+getsize
+kindex
+nsmsgkey
+key
+keys
+elementat
+kindex
+nsimsgdbhdr
+msghdr
+prbool
+haskey
+nssucceeded
+containskey
+key
+haskey
+haskey
+nsresult
+err
+getmsghdrforkey
+key
+msghdr
+nsfailed
+err
+err
+nsmsgmessagenotfound
+msghdr
+pruint
+flags
+msghdr
+getflags
+flags
+flags
+msgflagimapdeleted
+allkeysdeleted
+prfalse
+nsok
+allkeysdeleted
+prtrue
+nsok
+nsimethodimp
+nsmsgdatabase
+markimapdeleted
+nsmsgkey
+key
+prbool
+deleted
+nsidbchangelistener
+instigator
+setkeyflag
+key
+deleted
+msgflagimapdeleted
+instigator
+nsimethodimp
+nsmsgdatabase
+markmdnneeded
+nsmsgkey
+key
+prbool
+bneeded
+nsidbchangelistener
+instigator
+setkeyflag
+key
+bneeded
+msgflagmdnreportneeded
+instigator
+nsimethodimp
+nsmsgdatabase
+ismdnneeded
+nsmsgkey
+key
+prbool
+pneeded
+nsresult
+rv
+nscomptr
+nsimsgdbhdr
+msghdr
+rv
+getmsghdrforkey
+key
+getteraddrefs
+msghdr
+nsfailed
+rv
+msghdr
+nsmsgmessagenotfound
+pruint
+flags
+msghdr
+getflags
+flags
+pneeded
+flags
+msgflagmdnreportneeded
+msgflagmdnreportneeded
+rv
+nsresult
+nsmsgdatabase
+markmdnsent
+nsmsgkey
+key
+prbool
+bsent
+nsidbchangelistener
+instigator
+setkeyflag
+key
+bsent
+msgflagmdnreportsent
+instigator
+nsresult
+nsmsgdatabase
+ismdnsent
+nsmsgkey
+key
+prbool
+psent
+nsresult
+rv
+nscomptr
+nsimsgdbhdr
+msghdr
+rv
+getmsghdrforkey
+key
+getteraddrefs
+msghdr
+nsfailed
+rv
+msghdr
+nsmsgmessagenotfound
+pruint
+flags
+msghdr
+getflags
+flags
+psent
+flags
+msgflagmdnreportsent
+rv
+nsresult
+nsmsgdatabase
+setkeyflag
+nsmsgkey
+key
+prbool
+set
+pruint
+flag
+nsidbchangelistener
+instigator
+nsresult
+rv
+nscomptr
+nsimsgdbhdr
+msghdr
+rv
+getmsghdrforkey
+key
+getteraddrefs
+msghdr
+nsfailed
+rv
+msghdr
+nsmsgmessagenotfound
+pruint
+oldflags
+msghdr
+getflags
+oldflags
+sethdrflag
+msghdr
+set
+flag
+pruint
+flags
+msghdr
+getflags
+flags
+oldflags
+flags
+nsok
+notifykeychangeall
+key
+oldflags
+flags
+instigator
+rv
+nsresult
+nsmsgdatabase
+setmsghdrflag
+nsimsgdbhdr
+msghdr
+prbool
+set
+pruint
+flag
+nsidbchangelistener
+instigator
+nsresult
+rv
+pruint
+oldflags
+msghdr
+getflags
+oldflags
+sethdrflag
+msghdr
+set
+flag
+pruint
+flags
+msghdr
+getflags
+flags
+oldflags
+flags
+nsok
+pruint
+key
+rv
+msghdr
+getmessagekey
+key
+nssucceeded
+rv
+notifykeychangeall
+key
+oldflags
+flags
+instigator
+rv
+prbool
+nsmsgdatabase
+sethdrflag
+nsimsgdbhdr
+msghdr
+prbool
+bset
+msgflags
+flag
+pruint
+statusflags
+msghdr
+getflags
+statusflags
+pruint
+currentstatusflags
+getstatusflags
+msghdr
+statusflags
+prbool
+flagalreadyset
+currentstatusflags
+flag
+flagalreadyset
+bset
+flagalreadyset
+bset
+pruint
+resultflags
+bset
+msghdr
+orflags
+flag
+resultflags
+msghdr
+andflags
+flag
+resultflags
+prtrue
+prfalse
+nsimethodimp
+nsmsgdatabase
+markhdrread
+nsimsgdbhdr
+msghdr
+prbool
+bread
+nsidbchangelistener
+instigator
+nsresult
+rv
+nsok
+prbool
+isread
+prtrue
+prbool
+isreadindb
+nsmsgdatabase
+isheaderread
+msghdr
+isreadindb
+isheaderread
+msghdr
+isread
+bread
+isread
+isread
+isreadindb
+nscomptr
+nsimsgthread
+threadhdr
+nsmsgkey
+msgkey
+msghdr
+getmessagekey
+msgkey
+rv
+getthreadformsgkey
+msgkey
+getteraddrefs
+threadhdr
+threadhdr
+threadhdr
+markchildread
+bread
+rv
+markhdrreadindb
+msghdr
+bread
+instigator
+rv
+nsimethodimp
+nsmsgdatabase
+markhdrreplied
+nsimsgdbhdr
+msghdr
+prbool
+breplied
+nsidbchangelistener
+instigator
+setmsghdrflag
+msghdr
+breplied
+msgflagreplied
+instigator
+nsimethodimp
+nsmsgdatabase
+markhdrmarked
+nsimsgdbhdr
+msghdr
+prbool
+mark
+nsidbchangelistener
+instigator
+setmsghdrflag
+msghdr
+mark
+msgflagmarked
+instigator
+nsimethodimp
+nsmsgdatabase
+markallread
+nsmsgkeyarray
+thosemarked
+nsresult
+rv
+nsmsghdr
+pheader
+print
+numchanged
+nscomptr
+nsisimpleenumerator
+hdrs
+rv
+enumeratemessages
+getteraddrefs
+hdrs
+nsfailed
+rv
+rv
+prbool
+hasmore
+prfalse
+nssucceeded
+rv
+hdrs
+hasmoreelements
+hasmore
+hasmore
+prtrue
+rv
+hdrs
+getnext
+nsisupports
+pheader
+nsassertion
+nssucceeded
+rv
+nsmsgdbenumerator
+broken
+nsfailed
+rv
+thosemarked
+nsmsgkey
+key
+pheader
+getmessagekey
+key
+thosemarked
+add
+key
+rv
+markhdrread
+pheader
+prtrue
+nsnull
+numchanged
+nsrelease
+pheader
+print
+numnewmessages
+rv
+mdbfolderinfo
+getnumnewmessages
+numnewmessages
+rv
+nsok
+mdbfolderinfo
+changenumnewmessages
+numnewmessages
+rv
+nsimethodimp
+nsmsgdatabase
+markreadbydate
+prtime
+startdate
+prtime
+enddate
+nsmsgkeyarray
+markedids
+nsresult
+rv
+nsmsghdr
+pheader
+print
+numchanged
+nsisimpleenumerator
+hdrs
+rv
+enumeratemessages
+hdrs
+nsfailed
+rv
+rv
+nstime
+tstartdate
+startdate
+nstime
+tenddate
+enddate
+prbool
+hasmore
+prfalse
+nssucceeded
+rv
+hdrs
+hasmoreelements
+hasmore
+hasmore
+prtrue
+rv
+hdrs
+getnext
+nsisupports
+pheader
+nsassertion
+nssucceeded
+rv
+nsmsgdbenumerator
+broken
+nsfailed
+rv
+prtime
+headerdate
+pheader
+getdate
+headerdate
+nstime
+theaderdate
+headerdate
+theaderdate
+tstartdate
+theaderdate
+tenddate
+prbool
+isread
+nsmsgkey
+key
+pheader
+getmessagekey
+key
+isread
+key
+isread
+isread
+numchanged
+markedids
+markedids
+add
+key
+rv
+markhdrread
+pheader
+prtrue
+nsrelease
+pheader
+numchanged
+commit
+nsmsgdbcommittype
+ksmallcommit
+rv
+nsimethodimp
+nsmsgdatabase
+marklater
+nsmsgkey
+key
+prtime
+until
+prassert
+mdbfolderinfo
+mdbfolderinfo
+mdbfolderinfo
+addlaterkey
+key
+until
+nsok
+nsimethodimp
+nsmsgdatabase
+addtonewlist
+nsmsgkey
+key
+nsresult
+rv
+nsok
+mnewset
+mnewset
+nsmsgkeyset
+create
+mnewset
+nserroroutofmemory
+rv
+mnewset
+add
+key
+rv
+nsimethodimp
+nsmsgdatabase
+clearnewlist
+prbool
+notify
+nsresult
+err
+nsok
+mnewset
+notify
+print
+firstmember
+nsmsgkeyset
+savenewset
+mnewset
+mnewset
+nsnull
+firstmember
+savenewset
+getfirstmember
+savenewset
+remove
+firstmember
+nscomptr
+nsimsgdbhdr
+msghdr
+err
+getmsghdrforkey
+firstmember
+getteraddrefs
+msghdr
+nssucceeded
+err
+nsmsgkey
+key
+msghdr
+getmessagekey
+key
+pruint
+flags
+msghdr
+getflags
+flags
+flags
+msgflagnew
+flags
+notifykeychangeall
+key
+flags
+msgflagnew
+flags
+nsnull
+mnewset
+savenewset
+mnewset
+mnewset
+nsassertion
+no
+set
+err
+nsimethodimp
+nsmsgdatabase
+hasnew
+prbool
+retval
+retval
+nserrornullpointer
+mnewset
+mnewset
+getlength
+retval
+prtrue
+retval
+prfalse
+nsok
+nsimethodimp
+nsmsgdatabase
+getfirstnew
+nsmsgkey
+result
+prbool
+hasnew
+nsresult
+rv
+rv
+hasnew
+hasnew
+nsfailed
+rv
+rv
+hasnew
+result
+mnewset
+getfirstmember
+result
+nsmsgkeynone
+nsok
+nsmsgdbenumerator
+nsisimpleenumerator
+nsdeclisupports
+nsdeclnsisimpleenumerator
+nsresult
+nsmsgdbenumeratorfilter
+nsimsgdbhdr
+hdr
+closure
+nsmsgdbenumerator
+nsmsgdatabase
+db
+nsmsgdbenumeratorfilter
+filter
+closure
+nsmsgdbenumerator
+nsresult
+getrowcursor
+nsresult
+prefetchnext
+nsmsgdatabase
+mdb
+nsimdbtablerowcursor
+mrowcursor
+nsimsgdbhdr
+mresulthdr
+prbool
+mdone
+prbool
+mnextprefetched
+nsmsgdbenumeratorfilter
+mfilter
+mclosure
+nsmsgdbenumerator
+nsmsgdbenumerator
+nsmsgdatabase
+db
+nsmsgdbenumeratorfilter
+filter
+closure
+mdb
+db
+mrowcursor
+nsnull
+mresulthdr
+nsnull
+mdone
+prfalse
+mfilter
+filter
+mclosure
+closure
+nsaddref
+mdb
+mnextprefetched
+prfalse
+nsmsgdbenumerator
+nsmsgdbenumerator
+mrowcursor
+mrowcursor
+release
+nsrelease
+mdb
+nsifrelease
+mresulthdr
+nsimplisupports
+nsmsgdbenumerator
+nsisimpleenumerator
+nsresult
+nsmsgdbenumerator
+getrowcursor
+nsresult
+rv
+mdone
+prfalse
+mdb
+mdb
+mmdballmsgheaderstable
+nserrornullpointer
+rv
+mdb
+mmdballmsgheaderstable
+gettablerowcursor
+mdb
+getenv
+mrowcursor
+rv
+nsimethodimp
+nsmsgdbenumerator
+getnext
+nsisupports
+aitem
+aitem
+nserrornullpointer
+nsresult
+rv
+nsok
+mnextprefetched
+rv
+prefetchnext
+nssucceeded
+rv
+mresulthdr
+aitem
+mresulthdr
+nsaddref
+mresulthdr
+mnextprefetched
+prfalse
+rv
+nsresult
+nsmsgdbenumerator
+prefetchnext
+nsresult
+rv
+nsok
+nsimdbrow
+hdrrow
+mdbpos
+rowpos
+pruint
+flags
+mrowcursor
+rv
+getrowcursor
+nsfailed
+rv
+rv
+nsifrelease
+mresulthdr
+mresulthdr
+nsnull
+rv
+mrowcursor
+nextrow
+mdb
+getenv
+hdrrow
+rowpos
+hdrrow
+mdone
+prtrue
+nserrorfailure
+nsfailed
+rv
+mdone
+prtrue
+rv
+mdboid
+outoid
+nsmsgkey
+key
+hdrrow
+getoid
+mdb
+getenv
+outoid
+nsok
+key
+outoid
+moidid
+rv
+mdb
+gethdrfromusecache
+key
+mresulthdr
+nssucceeded
+rv
+mresulthdr
+hdrrow
+release
+rv
+mdb
+createmsghdr
+hdrrow
+key
+mresulthdr
+nsfailed
+rv
+rv
+mresulthdr
+mresulthdr
+getflags
+flags
+flags
+mfilter
+nsfailed
+mfilter
+mresulthdr
+mclosure
+flags
+msgflagexpunged
+mresulthdr
+mnextprefetched
+prtrue
+nsok
+nserrorfailure
+nsimethodimp
+nsmsgdbenumerator
+hasmoreelements
+prbool
+aresult
+aresult
+nserrornullpointer
+mnextprefetched
+prefetchnext
+aresult
+mdone
+nsok
+nsimethodimp
+nsmsgdatabase
+enumeratemessages
+nsisimpleenumerator
+result
+nsmsgdbenumerator
+nsmsgdbenumerator
+nsnull
+nsnull
+nsnull
+nserroroutofmemory
+nsaddref
+result
+nsok
+nsimethodimp
+nsmsgdatabase
+listallkeys
+nsmsgkeyarray
+outputkeys
+nsresult
+err
+nsok
+nsimdbtablerowcursor
+rowcursor
+mmdballmsgheaderstable
+err
+mmdballmsgheaderstable
+gettablerowcursor
+getenv
+rowcursor
+err
+nsok
+rowcursor
+mdboid
+outoid
+mdbpos
+outpos
+err
+rowcursor
+nextrowoid
+getenv
+outoid
+outpos
+outpos
+outoid
+moidid
+mdbid
+err
+nsok
+outputkeys
+add
+outoid
+moidid
+rowcursor
+release
+outputkeys
+quicksort
+err
+nsmsgdbthreadenumerator
+nsisimpleenumerator
+nsdeclisupports
+nsdeclnsisimpleenumerator
+nsresult
+nsmsgdbthreadenumeratorfilter
+nsimsgthread
+thread
+nsmsgdbthreadenumerator
+nsmsgdatabase
+db
+nsmsgdbthreadenumeratorfilter
+filter
+nsmsgdbthreadenumerator
+nsresult
+gettablecursor
+nsresult
+prefetchnext
+nsmsgdatabase
+mdb
+nsimdbporttablecursor
+mtablecursor
+nsimsgthread
+mresultthread
+prbool
+mdone
+prbool
+mnextprefetched
+nsmsgdbthreadenumeratorfilter
+mfilter
+nsmsgdbthreadenumerator
+nsmsgdbthreadenumerator
+nsmsgdatabase
+db
+nsmsgdbthreadenumeratorfilter
+filter
+mdb
+db
+mtablecursor
+nsnull
+mresultthread
+nsnull
+mdone
+prfalse
+mfilter
+filter
+nsaddref
+mdb
+mnextprefetched
+prfalse
+nsmsgdbthreadenumerator
+nsmsgdbthreadenumerator
+mtablecursor
+release
+nsifrelease
+mresultthread
+nsrelease
+mdb
+nsimplisupports
+nsmsgdbthreadenumerator
+nsisimpleenumerator
+nsresult
+nsmsgdbthreadenumerator
+gettablecursor
+nsresult
+rv
+mdb
+mdb
+mmdbstore
+nserrornullpointer
+mdb
+mmdbstore
+getporttablecursor
+mdb
+getenv
+mdb
+mhdrrowscopetoken
+mdb
+mthreadtablekindtoken
+mtablecursor
+nsfailed
+rv
+rv
+nsok
+nsimethodimp
+nsmsgdbthreadenumerator
+getnext
+nsisupports
+aitem
+aitem
+nserrornullpointer
+aitem
+nsnull
+nsresult
+rv
+nsok
+mnextprefetched
+rv
+prefetchnext
+nssucceeded
+rv
+mresultthread
+aitem
+mresultthread
+nsaddref
+mresultthread
+mnextprefetched
+prfalse
+rv
+nsresult
+nsmsgdbthreadenumerator
+prefetchnext
+nsresult
+rv
+nsimdbtable
+table
+nsnull
+mtablecursor
+rv
+gettablecursor
+nsfailed
+rv
+rv
+prtrue
+nsifrelease
+mresultthread
+mresultthread
+nsnull
+rv
+mtablecursor
+nexttable
+mdb
+getenv
+table
+table
+mdone
+prtrue
+nserrorfailure
+nsfailed
+rv
+mdone
+prtrue
+rv
+nsfailed
+rv
+rv
+mresultthread
+nsmsgthread
+mdb
+table
+mresultthread
+pruint
+numchildren
+nsaddref
+mresultthread
+mresultthread
+getnumchildren
+numchildren
+numchildren
+mfilter
+nsfailed
+mfilter
+mresultthread
+mresultthread
+mnextprefetched
+prtrue
+nsok
+nserrorfailure
+nsimethodimp
+nsmsgdbthreadenumerator
+hasmoreelements
+prbool
+aresult
+aresult
+nserrornullpointer
+mnextprefetched
+prefetchnext
+aresult
+mdone
+nsok
+nsimethodimp
+nsmsgdatabase
+enumeratethreads
+nsisimpleenumerator
+result
+nsmsgdbthreadenumerator
+nsmsgdbthreadenumerator
+nsnull
+nsnull
+nserroroutofmemory
+nsaddref
+result
+nsok
+nsresult
+nsmsgflagsetfilter
+nsimsgdbhdr
+msg
+closure
+pruint
+msgflags
+desiredflags
+desiredflags
+pruint
+closure
+msg
+getflags
+msgflags
+msgflags
+desiredflags
+nsok
+nserrorfailure
+nsresult
+nsmsgunreadfilter
+nsimsgdbhdr
+msg
+closure
+nsmsgdatabase
+db
+nsmsgdatabase
+closure
+prbool
+wasread
+prtrue
+nsresult
+rv
+db
+isheaderread
+msg
+wasread
+nsfailed
+rv
+rv
+wasread
+nsok
+nserrorfailure
+nsresult
+nsmsgdatabase
+enumerateunreadmessages
+nsisimpleenumerator
+result
+nsmsgdbenumerator
+nsmsgdbenumerator
+nsmsgunreadfilter
+nsnull
+nserroroutofmemory
+nsaddref
+result
+nsok
+nsresult
+nsmsgdatabase
+enumeratemessageswithflag
+nsisimpleenumerator
+result
+pruint
+pflag
+nsmsgdbenumerator
+nsmsgdbenumerator
+nsmsgflagsetfilter
+pflag
+nsnull
+nserroroutofmemory
+nsaddref
+result
+nsok
+nsresult
+nsmsgreadfilter
+nsimsgdbhdr
+msg
+closure
+nsmsgdatabase
+db
+nsmsgdatabase
+closure
+prbool
+wasread
+prtrue
+nsresult
+rv
+db
+isheaderread
+msg
+wasread
+nsfailed
+rv
+rv
+wasread
+nsok
+nserrorfailure
+nsresult
+nsmsgdatabase
+enumeratereadmessages
+nsisimpleenumerator
+result
+nsmsgdbenumerator
+nsmsgdbenumerator
+nsmsgreadfilter
+nsnull
+nserroroutofmemory
+nsaddref
+result
+nsok
+nsimethodimp
+nsmsgdatabase
+createnewhdr
+nsmsgkey
+key
+nsimsgdbhdr
+pnewhdr
+nsresult
+err
+nsok
+nsimdbrow
+hdrrow
+mdboid
+allmsghdrstableoid
+pnewhdr
+mmdballmsgheaderstable
+mmdbstore
+nserrornullpointer
+allmsghdrstableoid
+moidscope
+mhdrrowscopetoken
+allmsghdrstableoid
+moidid
+key
+err
+mmdbstore
+getrow
+getenv
+allmsghdrstableoid
+hdrrow
+hdrrow
+err
+mmdbstore
+newrowwithoid
+getenv
+allmsghdrstableoid
+hdrrow
+nsfailed
+err
+err
+err
+createmsghdr
+hdrrow
+key
+pnewhdr
+err
+nsimethodimp
+nsmsgdatabase
+addnewhdrtodb
+nsimsgdbhdr
+newhdr
+prbool
+notify
+nsmsghdr
+hdr
+nsstaticcast
+nsmsghdr
+newhdr
+prbool
+newthread
+nsresult
+err
+threadnewhdr
+hdr
+newthread
+nssucceeded
+err
+nsmsgkey
+key
+pruint
+flags
+newhdr
+getmessagekey
+key
+hdr
+getrawflags
+flags
+flags
+msgflagnew
+pruint
+newflags
+newhdr
+andflags
+msgflagnew
+newflags
+addtonewlist
+key
+mdbfolderinfo
+mdbfolderinfo
+changenummessages
+mdbfolderinfo
+changenumvisiblemessages
+prbool
+isread
+prtrue
+isheaderread
+newhdr
+isread
+isread
+mdbfolderinfo
+changenumnewmessages
+mdbfolderinfo
+sethighwater
+key
+prfalse
+err
+mmdballmsgheaderstable
+addrow
+getenv
+hdr
+getmdbrow
+notify
+nsmsgkey
+threadparent
+newhdr
+getthreadparent
+threadparent
+notifykeyaddedall
+key
+threadparent
+flags
+nsassertion
+nssucceeded
+err
+error
+creating
+thread
+err
+nsimethodimp
+nsmsgdatabase
+copyhdrfromexistinghdr
+nsmsgkey
+key
+nsimsgdbhdr
+existinghdr
+prbool
+addhdrtodb
+nsimsgdbhdr
+newhdr
+nsresult
+err
+nsok
+existinghdr
+key
+nsmsgkeynone
+nsmsgmessagenotfound
+nsmsghdr
+sourcemsghdr
+nsstaticcast
+nsmsghdr
+existinghdr
+nsmsghdr
+destmsghdr
+nsnull
+createnewhdr
+key
+nsimsgdbhdr
+destmsghdr
+destmsghdr
+nsmsgmessagenotfound
+nsimdbrow
+sourcerow
+sourcemsghdr
+getmdbrow
+nsimdbrow
+destrow
+destmsghdr
+getmdbrow
+err
+destrow
+setrow
+getenv
+sourcerow
+nssucceeded
+err
+addhdrtodb
+err
+addnewhdrtodb
+destmsghdr
+prtrue
+nssucceeded
+err
+newhdr
+newhdr
+destmsghdr
+err
+nsresult
+nsmsgdatabase
+rowcellcolumntonsstring
+nsimdbrow
+hdrrow
+mdbtoken
+columntoken
+nsstring
+resultstr
+nsresult
+err
+nsok
+hdrrow
+mdbyarn
+yarn
+err
+hdrrow
+aliascellyarn
+getenv
+columntoken
+yarn
+err
+nsok
+yarntonsstring
+yarn
+resultstr
+err
+nsresult
+nsmsgdatabase
+rowcellcolumntoconstcharptr
+nsimdbrow
+hdrrow
+mdbtoken
+columntoken
+ptr
+nsresult
+err
+nsok
+hdrrow
+mdbyarn
+yarn
+err
+hdrrow
+aliascellyarn
+getenv
+columntoken
+yarn
+err
+nsok
+ptr
+yarn
+myarnbuf
+err
+nsimimeconverter
+nsmsgdatabase
+getmimeconverter
+mmimeconverter
+nscomponentmanager
+createinstance
+nsmimeconvertercontractid
+nsnull
+nsgetiid
+nsimimeconverter
+getteraddrefs
+mmimeconverter
+mmimeconverter
+nsresult
+nsmsgdatabase
+rowcellcolumntomimedecodedstring
+nsimdbrow
+row
+mdbtoken
+columntoken
+prunichar
+resultstr
+nsresult
+err
+nsok
+nakedstring
+nsnull
+err
+rowcellcolumntoconstcharptr
+row
+columntoken
+nakedstring
+nssucceeded
+err
+nakedstring
+strlen
+nakedstring
+getmimeconverter
+mmimeconverter
+nsautostring
+decodedstr
+charset
+prbool
+charactersetoverride
+mdbfolderinfo
+getconstcharptrcharacterset
+charset
+mdbfolderinfo
+getcharactersetoverride
+charactersetoverride
+err
+mmimeconverter
+decodemimeheader
+nakedstring
+resultstr
+charset
+charactersetoverride
+err
+nsresult
+nsmsgdatabase
+rowcellcolumntoaddresscollationkey
+nsimdbrow
+row
+mdbtoken
+coltoken
+pruint
+result
+pruint
+len
+csender
+nsxpidlcstring
+name
+nsresult
+ret
+rowcellcolumntoconstcharptr
+row
+coltoken
+csender
+nssucceeded
+ret
+nsimsgheaderparser
+headerparser
+getheaderparser
+headerparser
+nsimimeconverter
+converter
+getmimeconverter
+nssucceeded
+ret
+nsnull
+converter
+resultstr
+nsnull
+charset
+prbool
+charactersetoverride
+mdbfolderinfo
+getcharptrcharacterset
+charset
+mdbfolderinfo
+getcharactersetoverride
+charactersetoverride
+ret
+converter
+decodemimeheader
+csender
+resultstr
+charset
+charactersetoverride
+nssucceeded
+ret
+resultstr
+ret
+headerparser
+extractheaderaddressname
+utf
+resultstr
+gettercopies
+name
+ret
+headerparser
+extractheaderaddressname
+utf
+csender
+gettercopies
+name
+prfreeif
+resultstr
+prfreeif
+charset
+nssucceeded
+ret
+ret
+createcollationkey
+nsconvertutftoucs
+name
+get
+result
+len
+ret
+nsresult
+nsmsgdatabase
+getcollationkeygenerator
+nsresult
+err
+nsok
+mcollationkeygenerator
+nscomptr
+nsilocale
+locale
+nsstring
+localename
+nscomptr
+nsilocaleservice
+localeservice
+dogetservice
+nslocaleservicecontractid
+err
+nssucceeded
+err
+err
+localeservice
+getapplicationlocale
+getteraddrefs
+locale
+locale
+nscomptr
+nsicollationfactory
+err
+nscomponentmanager
+createinstance
+kcollationfactorycid
+nsgetiid
+nsicollationfactory
+getteraddrefs
+nssucceeded
+err
+err
+createcollation
+locale
+getteraddrefs
+mcollationkeygenerator
+err
+nsresult
+nsmsgdatabase
+rowcellcolumntocollationkey
+nsimdbrow
+row
+mdbtoken
+columntoken
+pruint
+result
+pruint
+len
+nsxpidlstring
+nakedstring
+nsresult
+err
+err
+rowcellcolumntomimedecodedstring
+row
+columntoken
+gettercopies
+nakedstring
+nssucceeded
+err
+err
+createcollationkey
+prunichar
+nakedstring
+result
+len
+err
+nsimethodimp
+nsmsgdatabase
+comparecollationkeys
+pruint
+key
+pruint
+len
+pruint
+key
+pruint
+len
+print
+result
+nsresult
+rv
+getcollationkeygenerator
+nsensuresuccess
+rv
+rv
+mcollationkeygenerator
+nserrorfailure
+rv
+mcollationkeygenerator
+comparerawsortkey
+key
+len
+key
+len
+result
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsmsgdatabase
+createcollationkey
+prunichar
+sourcestring
+pruint
+result
+pruint
+len
+nsresult
+err
+getcollationkeygenerator
+nsensuresuccess
+err
+err
+mcollationkeygenerator
+nserrorfailure
+nsautostring
+sourcestr
+sourcestring
+err
+mcollationkeygenerator
+getsortkeylen
+kcollationcaseinsensitive
+sourcestr
+len
+nsensuresuccess
+err
+err
+result
+pruint
+prmalloc
+len
+result
+nserroroutofmemory
+err
+mcollationkeygenerator
+createrawsortkey
+kcollationcaseinsensitive
+sourcestr
+result
+len
+nsensuresuccess
+err
+err
+err
+nsimsgheaderparser
+nsmsgdatabase
+getheaderparser
+mheaderparser
+nscomptr
+nsimsgheaderparser
+parser
+dogetservice
+nsmailnewsmimeheaderparsercontractid
+nsifaddref
+mheaderparser
+parser
+mheaderparser
+nsresult
+nsmsgdatabase
+rowcellcolumntouint
+nsimdbrow
+hdrrow
+mdbtoken
+columntoken
+pruint
+uintresult
+pruint
+defaultvalue
+rowcellcolumntouint
+hdrrow
+columntoken
+uintresult
+defaultvalue
+nsresult
+nsmsgdatabase
+rowcellcolumntouint
+nsimdbrow
+hdrrow
+mdbtoken
+columntoken
+pruint
+uintresult
+pruint
+defaultvalue
+nsresult
+err
+nsok
+uintresult
+uintresult
+defaultvalue
+hdrrow
+mdbyarn
+yarn
+err
+hdrrow
+aliascellyarn
+getenv
+columntoken
+yarn
+err
+nsok
+yarntouint
+yarn
+uintresult
+err
+nsresult
+nsmsgdatabase
+uinttorowcellcolumn
+nsimdbrow
+row
+mdbtoken
+columntoken
+pruint
+value
+mdbyarn
+yarn
+yarnbuf
+row
+nserrornullpointer
+yarn
+myarnbuf
+yarnbuf
+yarn
+myarnsize
+yarnbuf
+yarn
+myarnfill
+yarn
+myarnsize
+yarn
+myarnform
+yarn
+myarngrow
+row
+addcolumn
+getenv
+columntoken
+uinttoyarn
+yarn
+value
+nsresult
+nsmsgdatabase
+charptrtorowcellcolumn
+nsimdbrow
+row
+mdbtoken
+columntoken
+charptr
+row
+nserrornullpointer
+mdbyarn
+yarn
+yarn
+myarnbuf
+charptr
+yarn
+myarnsize
+plstrlen
+yarn
+myarnbuf
+yarn
+myarnfill
+yarn
+myarnsize
+yarn
+myarnform
+row
+addcolumn
+getenv
+columntoken
+yarn
+nsresult
+nsmsgdatabase
+rowcellcolumntocharptr
+nsimdbrow
+row
+mdbtoken
+columntoken
+result
+nsresult
+err
+nserrornullpointer
+row
+result
+mdbyarn
+yarn
+err
+row
+aliascellyarn
+getenv
+columntoken
+yarn
+err
+nsok
+result
+prcalloc
+yarn
+myarnfill
+result
+yarn
+myarnfill
+memcpy
+result
+yarn
+myarnbuf
+yarn
+myarnfill
+result
+err
+nserroroutofmemory
+err
+nsok
+result
+nscrt
+strdup
+err
+mdbyarn
+nsmsgdatabase
+nsstringtoyarn
+mdbyarn
+yarn
+nsstring
+str
+yarn
+myarnbuf
+tonewcstring
+str
+yarn
+myarnsize
+plstrlen
+yarn
+myarnbuf
+yarn
+myarnfill
+yarn
+myarnsize
+yarn
+myarnform
+yarn
+mdbyarn
+nsmsgdatabase
+uinttoyarn
+mdbyarn
+yarn
+pruint
+prsnprintf
+yarn
+myarnbuf
+yarn
+myarnsize
+lx
+yarn
+myarnfill
+plstrlen
+yarn
+myarnbuf
+yarn
+myarnform
+yarn
+nsmsgdatabase
+yarntonsstring
+mdbyarn
+yarn
+nsstring
+str
+buf
+yarn
+myarnbuf
+buf
+str
+assignwithconversion
+buf
+yarn
+myarnfill
+str
+truncate
+nsmsgdatabase
+yarntonscstring
+mdbyarn
+yarn
+nscstring
+str
+buf
+yarn
+myarnbuf
+buf
+str
+assign
+buf
+yarn
+myarnfill
+str
+truncate
+nsmsgdatabase
+yarntouint
+mdbyarn
+yarn
+pruint
+presult
+pruint
+result
+yarn
+myarnbuf
+print
+numchars
+prmin
+yarn
+myarnfill
+print
+numchars
+result
+numchars
+print
+unhex
+unhex
+result
+result
+unhex
+presult
+result
+nsmsgdatabase
+prtimeseconds
+prtime
+prtime
+pruint
+seconds
+print
+microsecondspersecond
+intermediateresult
+llil
+microsecondspersecond
+prusecpersec
+lldiv
+intermediateresult
+prtime
+microsecondspersecond
+lllui
+seconds
+intermediateresult
+nsmsgdatabase
+secondsprtime
+pruint
+seconds
+prtime
+prtime
+print
+microsecondspersecond
+intermediateresult
+llil
+microsecondspersecond
+prusecpersec
+lluil
+intermediateresult
+seconds
+llmul
+prtime
+intermediateresult
+microsecondspersecond
+nsresult
+nsmsgdatabase
+getproperty
+nsimdbrow
+row
+propertyname
+result
+nsresult
+err
+nsok
+mdbtoken
+propertytoken
+mmdbstore
+err
+mmdbstore
+stringtotoken
+getenv
+propertyname
+propertytoken
+err
+nserrornullpointer
+err
+nsok
+err
+rowcellcolumntocharptr
+row
+propertytoken
+result
+err
+nsresult
+nsmsgdatabase
+setproperty
+nsimdbrow
+row
+propertyname
+propertyval
+nsresult
+err
+nsok
+mdbtoken
+propertytoken
+err
+mmdbstore
+stringtotoken
+getenv
+propertyname
+propertytoken
+err
+nsok
+charptrtorowcellcolumn
+row
+propertytoken
+propertyval
+err
+nsresult
+nsmsgdatabase
+getpropertyasnsstring
+nsimdbrow
+row
+propertyname
+nsstring
+result
+nsresult
+err
+nsok
+mdbtoken
+propertytoken
+nsensurearg
+result
+err
+mmdbstore
+stringtotoken
+getenv
+propertyname
+propertytoken
+err
+nsok
+err
+rowcellcolumntonsstring
+row
+propertytoken
+result
+err
+nsresult
+nsmsgdatabase
+setpropertyfromnsstring
+nsimdbrow
+row
+propertyname
+nsstring
+propertyval
+nsresult
+err
+nsok
+mdbtoken
+propertytoken
+err
+mmdbstore
+stringtotoken
+getenv
+propertyname
+propertytoken
+err
+nsok
+setnsstringpropertywithtoken
+row
+propertytoken
+propertyval
+err
+nsresult
+nsmsgdatabase
+getuintproperty
+nsimdbrow
+row
+propertyname
+pruint
+result
+pruint
+defaultvalue
+nsresult
+err
+nsok
+mdbtoken
+propertytoken
+err
+mmdbstore
+stringtotoken
+getenv
+propertyname
+propertytoken
+err
+nsok
+err
+rowcellcolumntouint
+row
+propertytoken
+result
+defaultvalue
+err
+nsresult
+nsmsgdatabase
+setuintproperty
+nsimdbrow
+row
+propertyname
+pruint
+propertyval
+mdbyarn
+yarn
+intstrbuf
+yarn
+myarnbuf
+intstrbuf
+yarn
+myarnsize
+intstrbuf
+yarn
+myarnfill
+intstrbuf
+row
+nserrornullpointer
+mdbtoken
+propertytoken
+nsresult
+err
+mmdbstore
+stringtotoken
+getenv
+propertyname
+propertytoken
+err
+nsok
+uinttoyarn
+yarn
+propertyval
+err
+row
+addcolumn
+getenv
+propertytoken
+yarn
+err
+nsresult
+nsmsgdatabase
+setnsstringpropertywithtoken
+nsimdbrow
+row
+mdbtoken
+aproperty
+nsstring
+propertystr
+nsensurearg
+row
+mdbyarn
+yarn
+yarn
+myarngrow
+nsresult
+err
+row
+addcolumn
+getenv
+aproperty
+nsstringtoyarn
+yarn
+propertystr
+nsmemory
+free
+yarn
+myarnbuf
+err
+pruint
+nsmsgdatabase
+getcurversion
+kmsgdbversion
+nsimethodimp
+nsmsgdatabase
+setsummaryvalid
+prbool
+valid
+valid
+mdbfolderinfo
+setversion
+nsok
+nsimethodimp
+nsmsgdatabase
+getsummaryvalid
+prbool
+aresult
+nsensureargpointer
+aresult
+aresult
+prtrue
+nsok
+nsresult
+nsmsgdatabase
+createnewthread
+nsmsgkey
+threadid
+subject
+nsmsgthread
+pnewthread
+nsresult
+err
+nsok
+nsimdbtable
+threadtable
+mdboid
+threadtableoid
+mdboid
+allthreadstableoid
+pnewthread
+mmdbstore
+nserrornullpointer
+threadtableoid
+moidscope
+mhdrrowscopetoken
+threadtableoid
+moidid
+threadid
+err
+getstore
+newtablewithoid
+getenv
+threadtableoid
+mthreadtablekindtoken
+prfalse
+nsnull
+threadtable
+nsfailed
+err
+err
+allthreadstableoid
+moidscope
+mthreadrowscopetoken
+allthreadstableoid
+moidid
+threadid
+nsimdbrow
+threadrow
+nsnull
+err
+mmdbstore
+getrow
+getenv
+allthreadstableoid
+threadrow
+threadrow
+err
+mmdbstore
+newrowwithoid
+getenv
+allthreadstableoid
+threadrow
+nssucceeded
+err
+threadrow
+mmdballthreadstable
+mmdballthreadstable
+addrow
+getenv
+threadrow
+err
+charptrtorowcellcolumn
+threadrow
+mthreadsubjectcolumntoken
+subject
+threadrow
+release
+pnewthread
+nsmsgthread
+threadtable
+pnewthread
+pnewthread
+setthreadkey
+threadid
+err
+nsimsgthread
+nsmsgdatabase
+getthreadforreference
+nscstring
+msgid
+nsimsgdbhdr
+pmsghdr
+nsimsgdbhdr
+msghdr
+nsnull
+getmsghdrformessageid
+msgid
+get
+msghdr
+nsimsgthread
+thread
+msghdr
+nsmsgkey
+threadid
+nssucceeded
+msghdr
+getthreadid
+threadid
+thread
+getthreadforthreadid
+threadid
+pmsghdr
+pmsghdr
+msghdr
+msghdr
+release
+thread
+nsimsgthread
+nsmsgdatabase
+getthreadforsubject
+nscstring
+subject
+nsimsgthread
+thread
+nsnull
+mdbyarn
+subjectyarn
+subjectyarn
+myarnbuf
+subject
+get
+subjectyarn
+myarnfill
+plstrlen
+subject
+get
+subjectyarn
+myarnform
+subjectyarn
+myarnsize
+subjectyarn
+myarnfill
+nscomptr
+nsimdbrow
+threadrow
+mdboid
+outrowid
+mmdbstore
+mdberr
+result
+mmdbstore
+findrow
+getenv
+mthreadrowscopetoken
+mthreadsubjectcolumntoken
+subjectyarn
+outrowid
+getteraddrefs
+threadrow
+nssucceeded
+result
+threadrow
+mdboid
+outoid
+nsmsgkey
+key
+threadrow
+getoid
+getenv
+outoid
+nsok
+key
+outoid
+moidid
+thread
+getthreadforthreadid
+key
+ifdef
+debugbienvenu
+nsresult
+rv
+nsmsgthread
+pthread
+nscomptr
+nsimdbporttablecursor
+tablecursor
+mmdbstore
+getporttablecursor
+getenv
+mhdrrowscopetoken
+mthreadtablekindtoken
+getteraddrefs
+tablecursor
+nsimdbtable
+table
+prtrue
+rv
+tablecursor
+nexttable
+getenv
+table
+table
+nsfailed
+rv
+pthread
+nsmsgthread
+table
+pthread
+nsaddref
+pthread
+nsxpidlcstring
+cursubject
+pthread
+getsubject
+gettercopies
+cursubject
+subject
+equals
+cursubject
+nsassertion
+prfalse
+thread
+with
+subject
+exists
+but
+findrow
+didn
+find
+it
+nsifrelease
+pthread
+endif
+thread
+nsresult
+nsmsgdatabase
+threadnewhdr
+nsmsghdr
+newhdr
+prbool
+newthread
+nsresult
+result
+nserrorunexpected
+nscomptr
+nsimsgthread
+thread
+nscomptr
+nsimsgdbhdr
+replytohdr
+nsmsgkey
+threadid
+nsmsgkeynone
+newhdr
+nserrornullpointer
+pruint
+numreferences
+pruint
+newhdrflags
+newhdr
+getflags
+newhdrflags
+newhdr
+getnumreferences
+numreferences
+define
+subjthreading
+print
+numreferences
+nscautostring
+reference
+newhdr
+getstringreference
+reference
+reference
+isempty
+thread
+getteraddrefs
+getthreadforreference
+reference
+getteraddrefs
+replytohdr
+thread
+thread
+getthreadkey
+threadid
+newhdr
+setthreadid
+threadid
+result
+addtothread
+newhdr
+thread
+replytohdr
+prtrue
+ifdef
+subjthreading
+nsxpidlcstring
+subject
+newhdr
+getsubject
+gettercopies
+subject
+threadbysubjectwithoutre
+newhdrflags
+msgflaghasre
+thread
+nscautostring
+csubject
+subject
+thread
+getteraddrefs
+getthreadforsubject
+csubject
+thread
+thread
+getthreadkey
+threadid
+newhdr
+setthreadid
+threadid
+result
+addtothread
+newhdr
+thread
+nsnull
+prtrue
+endif
+thread
+result
+addnewthread
+newhdr
+newthread
+prtrue
+newthread
+prfalse
+result
+nsresult
+nsmsgdatabase
+addtothread
+nsmsghdr
+newhdr
+nsimsgthread
+thread
+nsimsgdbhdr
+inreplyto
+prbool
+threadinthread
+nscomptr
+nsidbchangeannouncer
+announcer
+doqueryinterface
+thread
+addchild
+newhdr
+inreplyto
+threadinthread
+announcer
+nsmsghdr
+nsmsgdatabase
+getmsghdrforreference
+nscstring
+reference
+nsassertion
+prfalse
+implemented
+yet
+nsnull
+nsimethodimp
+nsmsgdatabase
+getmsghdrformessageid
+msgid
+nsimsgdbhdr
+ahdr
+nsensureargpointer
+ahdr
+nsimsgdbhdr
+msghdr
+nsnull
+nsresult
+rv
+nsok
+mdbyarn
+messageidyarn
+messageidyarn
+myarnbuf
+msgid
+messageidyarn
+myarnfill
+plstrlen
+msgid
+messageidyarn
+myarnform
+messageidyarn
+myarnsize
+messageidyarn
+myarnfill
+nsimdbrow
+hdrrow
+mdboid
+outrowid
+mdberr
+result
+getstore
+findrow
+getenv
+mhdrrowscopetoken
+mmessageidcolumntoken
+messageidyarn
+outrowid
+hdrrow
+nssucceeded
+result
+hdrrow
+mdboid
+outoid
+nsmsgkey
+key
+hdrrow
+getoid
+getenv
+outoid
+nsok
+key
+outoid
+moidid
+rv
+gethdrfromusecache
+key
+msghdr
+nssucceeded
+rv
+msghdr
+hdrrow
+release
+rv
+createmsghdr
+hdrrow
+key
+msghdr
+nsifaddref
+ahdr
+msghdr
+nsok
+nsimsgdbhdr
+nsmsgdatabase
+getmsghdrforsubject
+nscstring
+subject
+nsimsgdbhdr
+msghdr
+nsnull
+nsresult
+rv
+nsok
+mdbyarn
+subjectyarn
+subjectyarn
+myarnbuf
+subject
+get
+subjectyarn
+myarnfill
+plstrlen
+subject
+get
+subjectyarn
+myarnform
+subjectyarn
+myarnsize
+subjectyarn
+myarnfill
+nsimdbrow
+hdrrow
+mdboid
+outrowid
+mdberr
+result
+getstore
+findrow
+getenv
+mhdrrowscopetoken
+msubjectcolumntoken
+subjectyarn
+outrowid
+hdrrow
+nssucceeded
+result
+hdrrow
+mdboid
+outoid
+nsmsgkey
+key
+hdrrow
+getoid
+getenv
+outoid
+nsok
+key
+outoid
+moidid
+rv
+gethdrfromusecache
+key
+msghdr
+nssucceeded
+rv
+msghdr
+hdrrow
+release
+rv
+createmsghdr
+hdrrow
+key
+msghdr
+msghdr
+nsimethodimp
+nsmsgdatabase
+getthreadcontainingmsghdr
+nsimsgdbhdr
+msghdr
+nsimsgthread
+result
+nsensureargpointer
+msghdr
+result
+nserrornullpointer
+result
+nsnull
+nsmsgkey
+threadid
+nsmsgkeynone
+msghdr
+getthreadid
+threadid
+threadid
+nsmsgkeynone
+result
+getthreadforthreadid
+threadid
+result
+nsok
+nserrorfailure
+nsresult
+nsmsgdatabase
+getthreadformsgkey
+nsmsgkey
+msgkey
+nsimsgthread
+aresult
+nsensureargpointer
+aresult
+nscomptr
+nsimsgdbhdr
+msg
+nsresult
+rv
+getmsghdrforkey
+msgkey
+getteraddrefs
+msg
+nssucceeded
+rv
+msg
+rv
+getthreadcontainingmsghdr
+msg
+aresult
+rv
+nsimsgthread
+nsmsgdatabase
+getthreadforthreadid
+nsmsgkey
+threadid
+threadid
+mcachedthreadid
+mcachedthread
+nsimsgthread
+retthread
+mcachedthread
+nsaddref
+retthread
+retthread
+nsmsgthread
+pthread
+nsnull
+mmdbstore
+mdboid
+tableid
+tableid
+moidid
+threadid
+tableid
+moidscope
+mhdrrowscopetoken
+nsimdbtable
+threadtable
+mdberr
+res
+mmdbstore
+gettable
+getenv
+tableid
+threadtable
+nssucceeded
+res
+threadtable
+pthread
+nsmsgthread
+threadtable
+pthread
+nsaddref
+pthread
+mcachedthread
+pthread
+mcachedthreadid
+threadid
+pthread
+nsresult
+nsmsgdatabase
+addnewthread
+nsmsghdr
+msghdr
+msghdr
+nserrornullpointer
+nsmsgthread
+threadhdr
+nsnull
+nsxpidlcstring
+subject
+nsmsgkey
+threadkey
+msghdr
+mmessagekey
+threadkey
+threadkey
+ktablekeyforthreadone
+nsresult
+err
+msghdr
+getsubject
+gettercopies
+subject
+err
+createnewthread
+threadkey
+subject
+threadhdr
+msghdr
+setthreadid
+threadkey
+threadhdr
+threadhdr
+addref
+addtothread
+msghdr
+threadhdr
+nsnull
+prfalse
+threadhdr
+release
+err
+prbool
+nsmsgdatabase
+threadbysubjectwithoutre
+prtrue
+nsresult
+nsmsgdatabase
+getboolpref
+prefname
+prbool
+result
+prbool
+prefvalue
+prfalse
+nsresult
+rv
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefcid
+rv
+nssucceeded
+rv
+prefs
+rv
+prefs
+getboolpref
+prefname
+prefvalue
+result
+prefvalue
+rv
+nsresult
+nsmsgdatabase
+getintpref
+prefname
+print
+result
+print
+prefvalue
+nsresult
+rv
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefcid
+rv
+nssucceeded
+rv
+prefs
+rv
+prefs
+getintpref
+prefname
+prefvalue
+result
+prefvalue
+rv
+nsresult
+nsmsgdatabase
+listallthreads
+nsmsgkeyarray
+threadids
+nsresult
+rv
+nsmsgthread
+pthread
+nscomptr
+nsisimpleenumerator
+threads
+rv
+enumeratethreads
+getteraddrefs
+threads
+nsfailed
+rv
+rv
+prbool
+hasmore
+prfalse
+nssucceeded
+rv
+threads
+hasmoreelements
+hasmore
+hasmore
+prtrue
+rv
+threads
+getnext
+nsisupports
+pthread
+nsensuresuccess
+rv
+rv
+threadids
+nsmsgkey
+key
+pthread
+getthreadkey
+key
+threadids
+add
+key
+pthread
+nsnull
+rv
+nsimethodimp
+nsmsgdatabase
+getofflineopforkey
+nsmsgkey
+msgkey
+prbool
+create
+nsimsgofflineimapoperation
+offlineop
+nsassertion
+prfalse
+overridden
+by
+nsmaildatabase
+nserrornotimplemented
+nsimethodimp
+nsmsgdatabase
+removeofflineop
+nsimsgofflineimapoperation
+op
+nsassertion
+prfalse
+overridden
+by
+nsmaildatabase
+nserrornotimplemented
+nsimethodimp
+nsmsgdatabase
+listallofflinemsgs
+nsmsgkeyarray
+outputkeys
+nscomptr
+nsisimpleenumerator
+enumerator
+pruint
+flag
+msgflagoffline
+nsresult
+rv
+enumeratemessageswithflag
+getteraddrefs
+enumerator
+flag
+nssucceeded
+rv
+enumerator
+prbool
+hasmoreelements
+nssucceeded
+enumerator
+hasmoreelements
+hasmoreelements
+hasmoreelements
+nscomptr
+nsisupports
+childsupports
+rv
+enumerator
+getnext
+getteraddrefs
+childsupports
+nsfailed
+rv
+rv
+nscomptr
+nsimsgdbhdr
+dbmessage
+doqueryinterface
+childsupports
+rv
+nssucceeded
+rv
+dbmessage
+nsmsgkey
+msgkey
+dbmessage
+getmessagekey
+msgkey
+outputkeys
+add
+msgkey
+outputkeys
+quicksort
+rv
+nsimethodimp
+nsmsgdatabase
+enumerateofflineops
+nsisimpleenumerator
+enumerator
+nsassertion
+prfalse
+overridden
+by
+nsmaildatabase
+nserrornotimplemented
+nsimethodimp
+nsmsgdatabase
+listallofflineopids
+nsmsgkeyarray
+offlineopids
+nsassertion
+prfalse
+overridden
+by
+nsmaildatabase
+nserrornotimplemented
+nsimethodimp
+nsmsgdatabase
+listallofflinedeletes
+nsmsgkeyarray
+offlinedeletes
+nsresult
+ret
+nsok
+offlinedeletes
+nserrornullpointer
+ret
+nsimethodimp
+nsmsgdatabase
+gethighwaterarticlenum
+nsmsgkey
+key
+mdbfolderinfo
+nserrornullpointer
+mdbfolderinfo
+gethighwater
+key
+nsimethodimp
+nsmsgdatabase
+getlowwaterarticlenum
+nsmsgkey
+key
+nserrornotimplemented
+nsimethodimp
+nsmsgdatabase
+getnextpseudomsgkey
+nsmsgkey
+nextpseudomsgkey
+nsensureargpointer
+nextpseudomsgkey
+nextpseudomsgkey
+mnextpseudomsgkey
+nsok
+nsimethodimp
+nsmsgdatabase
+setnextpseudomsgkey
+nsmsgkey
+nextpseudomsgkey
+mnextpseudomsgkey
+nextpseudomsgkey
+nsok
+nsimethodimp
+nsmsgdatabase
+getnextfakeofflinemsgkey
+nsmsgkey
+nextfakeofflinemsgkey
+nsensureargpointer
+nextfakeofflinemsgkey
+nsmsgkey
+fakemsgkey
+kidstartoffake
+prbool
+containskey
+containskey
+fakemsgkey
+containskey
+containskey
+fakemsgkey
+containskey
+nextfakeofflinemsgkey
+fakemsgkey
+nsok
+nsimethodimp
+nsmsgdatabase
+hasthreads
+prbool
+hasthreads
+nsresult
+rv
+nscomptr
+nsisimpleenumerator
+threads
+rv
+enumeratethreads
+getteraddrefs
+threads
+nsensuresuccess
+rv
+rv
+rv
+threads
+hasmoreelements
+hasthreads
+nsensuresuccess
+rv
+rv
+nsok
+ifdef
+debug
+nsresult
+nsmsgdatabase
+dumpcontents
+nsmsgkey
+key
+pruint
+nsmsgkeyarray
+keys
+nsresult
+rv
+listallkeys
+keys
+keys
+getsize
+key
+keys
+nsimsgdbhdr
+msg
+rv
+getmsghdrforkey
+key
+msg
+nsmsghdr
+msghdr
+nsstaticcast
+nsmsghdr
+msg
+nssucceeded
+rv
+nsxpidlcstring
+author
+nsxpidlcstring
+subject
+msghdr
+getmessagekey
+key
+msghdr
+getauthor
+gettercopies
+author
+msghdr
+getsubject
+gettercopies
+subject
+printf
+hdr
+key
+author
+subject
+key
+author
+author
+subject
+subject
+nsrelease
+msghdr
+nsmsgkeyarray
+threads
+rv
+listallthreads
+threads
+threads
+getsize
+key
+threads
+printf
+thread
+key
+key
+nsok
+nsresult
+nsmsgdatabase
+dumpmsgchildren
+nsimsgdbhdr
+msghdr
+nsok
+nsresult
+nsmsgdatabase
+dumpthread
+nsmsgkey
+threadid
+nsresult
+rv
+nsok
+nsimsgthread
+thread
+nsnull
+thread
+getthreadforthreadid
+threadid
+thread
+nsisimpleenumerator
+enumerator
+nsnull
+rv
+thread
+enumeratemessages
+nsmsgkeynone
+enumerator
+nssucceeded
+rv
+enumerator
+prbool
+hasmore
+prfalse
+nssucceeded
+rv
+enumerator
+hasmoreelements
+hasmore
+hasmore
+prtrue
+nsimsgdbhdr
+pmessage
+nsnull
+rv
+enumerator
+getnext
+nsisupports
+pmessage
+nsassertion
+nssucceeded
+rv
+nsmsgdbenumerator
+broken
+nsfailed
+rv
+pmessage
+nsnull
+nsrelease
+enumerator
+rv
+endif
+nsimethodimp
+nsmsgdatabase
+setmsgretentionsettings
+nsimsgretentionsettings
+retentionsettings
+mretentionsettings
+retentionsettings
+retentionsettings
+mdbfolderinfo
+nsresult
+rv
+nsmsgretainbypreference
+retainbypreference
+pruint
+daystokeephdrs
+pruint
+numheaderstokeep
+prbool
+keepunreadmessagesonly
+pruint
+daystokeepbodies
+prbool
+cleanupbodiesbydays
+rv
+retentionsettings
+getretainbypreference
+retainbypreference
+nsensuresuccess
+rv
+rv
+rv
+retentionsettings
+getdaystokeephdrs
+daystokeephdrs
+nsensuresuccess
+rv
+rv
+rv
+retentionsettings
+getnumheaderstokeep
+numheaderstokeep
+nsensuresuccess
+rv
+rv
+rv
+retentionsettings
+getkeepunreadmessagesonly
+keepunreadmessagesonly
+nsensuresuccess
+rv
+rv
+rv
+retentionsettings
+getdaystokeepbodies
+daystokeepbodies
+nsensuresuccess
+rv
+rv
+rv
+retentionsettings
+getcleanupbodiesbydays
+cleanupbodiesbydays
+mdbfolderinfo
+setuintproperty
+retainby
+retainbypreference
+mdbfolderinfo
+setuintproperty
+daystokeephdrs
+daystokeephdrs
+mdbfolderinfo
+setuintproperty
+numhdrstokeep
+numheaderstokeep
+mdbfolderinfo
+setuintproperty
+daystokeepbodies
+daystokeepbodies
+mdbfolderinfo
+setuintproperty
+keepunreadonly
+keepunreadmessagesonly
+mdbfolderinfo
+setbooleanproperty
+cleanupbodies
+cleanupbodiesbydays
+nsok
+nsimethodimp
+nsmsgdatabase
+getmsgretentionsettings
+nsimsgretentionsettings
+retentionsettings
+nsensureargpointer
+retentionsettings
+mretentionsettings
+mretentionsettings
+nsmsgretentionsettings
+mretentionsettings
+mdbfolderinfo
+nsresult
+rv
+nsmsgretainbypreference
+retainbypreference
+pruint
+daystokeephdrs
+pruint
+numheaderstokeep
+pruint
+keepunreadmessagesprop
+prbool
+keepunreadmessagesonly
+prfalse
+prbool
+useserverdefaults
+pruint
+daystokeepbodies
+prbool
+cleanupbodiesbydays
+prfalse
+rv
+mdbfolderinfo
+getuintproperty
+retainby
+retainbypreference
+nsimsgretentionsettings
+nsmsgretainall
+mdbfolderinfo
+getuintproperty
+daystokeephdrs
+daystokeephdrs
+mdbfolderinfo
+getuintproperty
+numhdrstokeep
+numheaderstokeep
+mdbfolderinfo
+getuintproperty
+daystokeepbodies
+daystokeepbodies
+mdbfolderinfo
+getuintproperty
+keepunreadonly
+keepunreadmessagesprop
+mdbfolderinfo
+getbooleanproperty
+useserverdefaults
+useserverdefaults
+prtrue
+mdbfolderinfo
+getbooleanproperty
+cleanupbodies
+cleanupbodiesbydays
+prfalse
+keepunreadmessagesonly
+keepunreadmessagesprop
+mretentionsettings
+setretainbypreference
+retainbypreference
+mretentionsettings
+setdaystokeephdrs
+daystokeephdrs
+mretentionsettings
+setnumheaderstokeep
+numheaderstokeep
+mretentionsettings
+setkeepunreadmessagesonly
+keepunreadmessagesonly
+mretentionsettings
+setdaystokeepbodies
+daystokeepbodies
+mretentionsettings
+setuseserverdefaults
+useserverdefaults
+mretentionsettings
+setcleanupbodiesbydays
+cleanupbodiesbydays
+retentionsettings
+mretentionsettings
+nsifaddref
+retentionsettings
+nsok
+nsimethodimp
+nsmsgdatabase
+setmsgdownloadsettings
+nsimsgdownloadsettings
+downloadsettings
+mdownloadsettings
+downloadsettings
+downloadsettings
+mdbfolderinfo
+nsresult
+rv
+prbool
+useserverdefaults
+prbool
+downloadbydate
+pruint
+agelimitofmsgstodownload
+prbool
+downloadunreadonly
+rv
+downloadsettings
+getuseserverdefaults
+useserverdefaults
+nsensuresuccess
+rv
+rv
+rv
+downloadsettings
+getdownloadbydate
+downloadbydate
+nsensuresuccess
+rv
+rv
+rv
+downloadsettings
+getdownloadunreadonly
+downloadunreadonly
+nsensuresuccess
+rv
+rv
+rv
+downloadsettings
+getagelimitofmsgstodownload
+agelimitofmsgstodownload
+nsensuresuccess
+rv
+rv
+mdbfolderinfo
+setbooleanproperty
+useserverdefaults
+useserverdefaults
+mdbfolderinfo
+setbooleanproperty
+downloadbydate
+downloadbydate
+mdbfolderinfo
+setbooleanproperty
+downloadunreadonly
+downloadunreadonly
+mdbfolderinfo
+setuintproperty
+agelimit
+agelimitofmsgstodownload
+nsok
+nsimethodimp
+nsmsgdatabase
+getmsgdownloadsettings
+nsimsgdownloadsettings
+downloadsettings
+nsensureargpointer
+downloadsettings
+mdownloadsettings
+mdownloadsettings
+nsmsgdownloadsettings
+mdownloadsettings
+mdbfolderinfo
+prbool
+useserverdefaults
+prbool
+downloadbydate
+pruint
+agelimitofmsgstodownload
+prbool
+downloadunreadonly
+mdbfolderinfo
+getbooleanproperty
+useserverdefaults
+useserverdefaults
+prtrue
+mdbfolderinfo
+getbooleanproperty
+downloadbydate
+downloadbydate
+prfalse
+mdbfolderinfo
+getbooleanproperty
+downloadunreadonly
+downloadunreadonly
+prfalse
+mdbfolderinfo
+getuintproperty
+agelimit
+agelimitofmsgstodownload
+mdownloadsettings
+setuseserverdefaults
+useserverdefaults
+mdownloadsettings
+setdownloadbydate
+downloadbydate
+mdownloadsettings
+setdownloadunreadonly
+downloadunreadonly
+mdownloadsettings
+setagelimitofmsgstodownload
+agelimitofmsgstodownload
+downloadsettings
+mdownloadsettings
+nsifaddref
+downloadsettings
+nsok
+nsimethodimp
+nsmsgdatabase
+applyretentionsettings
+nsimsgretentionsettings
+msgretentionsettings
+nsensureargpointer
+msgretentionsettings
+nsresult
+rv
+nsok
+nsmsgretainbypreference
+retainbypreference
+pruint
+daystokeephdrs
+pruint
+numheaderstokeep
+prbool
+keepunreadmessagesonly
+prfalse
+msgretentionsettings
+getretainbypreference
+retainbypreference
+msgretentionsettings
+getkeepunreadmessagesonly
+keepunreadmessagesonly
+retainbypreference
+nsimsgretentionsettings
+nsmsgretainall
+nsimsgretentionsettings
+nsmsgretainbyage
+msgretentionsettings
+getdaystokeephdrs
+daystokeephdrs
+purgemessagesolderthan
+daystokeephdrs
+keepunreadmessagesonly
+nsimsgretentionsettings
+nsmsgretainbynumheaders
+msgretentionsettings
+getnumheaderstokeep
+numheaderstokeep
+purgeexcessmessages
+numheaderstokeep
+keepunreadmessagesonly
+rv
+nsresult
+nsmsgdatabase
+purgemessagesolderthan
+pruint
+daystokeephdrs
+prbool
+keepunreadmessagesonly
+nsresult
+rv
+nsok
+nsmsghdr
+pheader
+nscomptr
+nsisimpleenumerator
+hdrs
+rv
+enumeratemessages
+getteraddrefs
+hdrs
+nsmsgkeyarray
+keystodelete
+nsfailed
+rv
+rv
+prbool
+hasmore
+prfalse
+prtime
+now
+prnow
+prtime
+cutoffday
+print
+microsecondspersecond
+secondsindays
+microsecondsinday
+llil
+microsecondspersecond
+prusecpersec
+lluil
+secondsindays
+daystokeephdrs
+llmul
+microsecondsinday
+secondsindays
+microsecondspersecond
+llsub
+cutoffday
+now
+microsecondsinday
+nssucceeded
+rv
+hdrs
+hasmoreelements
+hasmore
+hasmore
+prtrue
+prbool
+purgehdr
+prfalse
+rv
+hdrs
+getnext
+nsisupports
+pheader
+nsassertion
+nssucceeded
+rv
+nsmsgdbenumerator
+broken
+nsfailed
+rv
+keepunreadmessagesonly
+prbool
+isread
+isheaderread
+pheader
+isread
+isread
+purgehdr
+prtrue
+purgehdr
+prtime
+date
+pheader
+getdate
+date
+llcmp
+date
+cutoffday
+purgehdr
+prtrue
+purgehdr
+nsmsgkey
+msgkey
+pheader
+getmessagekey
+msgkey
+keystodelete
+add
+msgkey
+nsrelease
+pheader
+deletemessages
+keystodelete
+nsnull
+keystodelete
+getsize
+commit
+nsmsgdbcommittype
+kcompresscommit
+keystodelete
+getsize
+commit
+nsmsgdbcommittype
+klargecommit
+rv
+nsresult
+nsmsgdatabase
+purgeexcessmessages
+pruint
+numheaderstokeep
+prbool
+keepunreadmessagesonly
+nsresult
+rv
+nsok
+nsmsghdr
+pheader
+nscomptr
+nsisimpleenumerator
+hdrs
+rv
+enumeratemessages
+getteraddrefs
+hdrs
+nsfailed
+rv
+rv
+prbool
+hasmore
+prfalse
+nsmsgkeyarray
+keystodelete
+mdbcount
+numhdrs
+mmdballmsgheaderstable
+mmdballmsgheaderstable
+getcount
+getenv
+numhdrs
+nserrornullpointer
+nssucceeded
+rv
+hdrs
+hasmoreelements
+hasmore
+hasmore
+prtrue
+prbool
+purgehdr
+prfalse
+rv
+hdrs
+getnext
+nsisupports
+pheader
+nsassertion
+nssucceeded
+rv
+nsmsgdbenumerator
+broken
+nsfailed
+rv
+keepunreadmessagesonly
+prbool
+isread
+isheaderread
+pheader
+isread
+isread
+purgehdr
+prtrue
+numhdrs
+numheaderstokeep
+purgehdr
+prtrue
+purgehdr
+nsmsgkey
+msgkey
+pheader
+getmessagekey
+msgkey
+keystodelete
+add
+msgkey
+numhdrs
+nsrelease
+pheader
+print
+numkeystodelete
+keystodelete
+getsize
+numkeystodelete
+deletemessages
+keystodelete
+nsnull
+numkeystodelete
+commit
+nsmsgdbcommittype
+kcompresscommit
+commit
+nsmsgdbcommittype
+klargecommit
+rv
+nsimplisupports
+nsmsgretentionsettings
+nsimsgretentionsettings
+nsmsgretentionsettings
+nsmsgretentionsettings
+nsmsgretentionsettings
+nsmsgretentionsettings
+nsimethodimp
+nsmsgretentionsettings
+getretainbypreference
+nsmsgretainbypreference
+retainbypreference
+nsensureargpointer
+retainbypreference
+retainbypreference
+mretainbypreference
+nsok
+nsimethodimp
+nsmsgretentionsettings
+setretainbypreference
+nsmsgretainbypreference
+retainbypreference
+mretainbypreference
+retainbypreference
+nsok
+nsimethodimp
+nsmsgretentionsettings
+getdaystokeephdrs
+pruint
+adaystokeephdrs
+nsensureargpointer
+adaystokeephdrs
+adaystokeephdrs
+mdaystokeephdrs
+nsok
+nsimethodimp
+nsmsgretentionsettings
+setdaystokeephdrs
+pruint
+adaystokeephdrs
+mdaystokeephdrs
+adaystokeephdrs
+nsok
+nsimethodimp
+nsmsgretentionsettings
+getnumheaderstokeep
+pruint
+anumheaderstokeep
+nsensureargpointer
+anumheaderstokeep
+anumheaderstokeep
+mnumheaderstokeep
+nsok
+nsimethodimp
+nsmsgretentionsettings
+setnumheaderstokeep
+pruint
+anumheaderstokeep
+mnumheaderstokeep
+anumheaderstokeep
+nsok
+nsimethodimp
+nsmsgretentionsettings
+getuseserverdefaults
+prbool
+auseserverdefaults
+nsensureargpointer
+auseserverdefaults
+auseserverdefaults
+museserverdefaults
+nsok
+nsimethodimp
+nsmsgretentionsettings
+setuseserverdefaults
+prbool
+auseserverdefaults
+museserverdefaults
+auseserverdefaults
+nsok
+nsimethodimp
+nsmsgretentionsettings
+getkeepunreadmessagesonly
+prbool
+akeepunreadmessagesonly
+nsensureargpointer
+akeepunreadmessagesonly
+akeepunreadmessagesonly
+mkeepunreadmessagesonly
+nsok
+nsimethodimp
+nsmsgretentionsettings
+setkeepunreadmessagesonly
+prbool
+akeepunreadmessagesonly
+mkeepunreadmessagesonly
+akeepunreadmessagesonly
+nsok
+nsimethodimp
+nsmsgretentionsettings
+getcleanupbodiesbydays
+prbool
+acleanupbodiesbydays
+nsensureargpointer
+acleanupbodiesbydays
+acleanupbodiesbydays
+mcleanupbodiesbydays
+nsok
+nsimethodimp
+nsmsgretentionsettings
+setcleanupbodiesbydays
+prbool
+acleanupbodiesbydays
+mcleanupbodiesbydays
+acleanupbodiesbydays
+nsok
+nsimethodimp
+nsmsgretentionsettings
+getdaystokeepbodies
+pruint
+adaystokeepbodies
+nsensureargpointer
+adaystokeepbodies
+adaystokeepbodies
+mdaystokeepbodies
+nsok
+nsimethodimp
+nsmsgretentionsettings
+setdaystokeepbodies
+pruint
+adaystokeepbodies
+mdaystokeepbodies
+adaystokeepbodies
+nsok
+nsimplisupports
+nsmsgdownloadsettings
+nsimsgdownloadsettings
+nsmsgdownloadsettings
+nsmsgdownloadsettings
+museserverdefaults
+prfalse
+mdownloadunreadonly
+prfalse
+mdownloadbydate
+prfalse
+magelimitofmsgstodownload
+nsmsgdownloadsettings
+nsmsgdownloadsettings
+nsimethodimp
+nsmsgdownloadsettings
+getuseserverdefaults
+prbool
+auseserverdefaults
+nsensureargpointer
+auseserverdefaults
+auseserverdefaults
+museserverdefaults
+nsok
+nsimethodimp
+nsmsgdownloadsettings
+setuseserverdefaults
+prbool
+auseserverdefaults
+museserverdefaults
+auseserverdefaults
+nsok
+nsimethodimp
+nsmsgdownloadsettings
+getdownloadunreadonly
+prbool
+adownloadunreadonly
+nsensureargpointer
+adownloadunreadonly
+adownloadunreadonly
+mdownloadunreadonly
+nsok
+nsimethodimp
+nsmsgdownloadsettings
+setdownloadunreadonly
+prbool
+adownloadunreadonly
+mdownloadunreadonly
+adownloadunreadonly
+nsok
+nsimethodimp
+nsmsgdownloadsettings
+getdownloadbydate
+prbool
+adownloadbydate
+nsensureargpointer
+adownloadbydate
+adownloadbydate
+mdownloadbydate
+nsok
+nsimethodimp
+nsmsgdownloadsettings
+setdownloadbydate
+prbool
+adownloadbydate
+mdownloadbydate
+adownloadbydate
+nsok
+nsimethodimp
+nsmsgdownloadsettings
+getagelimitofmsgstodownload
+pruint
+agelimitofmsgstodownload
+nsensureargpointer
+agelimitofmsgstodownload
+agelimitofmsgstodownload
+magelimitofmsgstodownload
+nsok
+nsimethodimp
+nsmsgdownloadsettings
+setagelimitofmsgstodownload
+pruint
+agelimitofmsgstodownload
+magelimitofmsgstodownload
+agelimitofmsgstodownload
+nsok
+nsimethodimp
+nsmsgdatabase
+getdefaultviewflags
+nsmsgviewflagstypevalue
+adefaultviewflags
+nsensureargpointer
+adefaultviewflags
+adefaultviewflags
+nsmsgviewflagstype
+knone
+nsok
+nsimethodimp
+nsmsgdatabase
+getdefaultsorttype
+nsmsgviewsorttypevalue
+adefaultsorttype
+nsensureargpointer
+adefaultsorttype
+adefaultsorttype
+nsmsgviewsorttype
+bydate
+nsok
+nsimethodimp
+nsmsgdatabase
+resethdrcachesize
+pruint
+asize
+mcachesize
+asize
+mcachesize
+asize
+clearhdrcache
+prfalse
+nsok
+nsimethodimp
+nsmsgdatabase
+setfolderstream
+nsiofilestream
+afilestream
+nsassertion
+trying
+to
+set
+the
+folderstream
+implemented
+nserrornotimplemented
+nsimethodimp
+nsmsgdatabase
+getnewlist
+nsmsgkeyarray
+anewlist
+nsensureargpointer
+anewlist
+mnewset
+mnewset
+tomsgkeyarray
+anewlist
+anewlist
+nsok
\ No newline at end of file
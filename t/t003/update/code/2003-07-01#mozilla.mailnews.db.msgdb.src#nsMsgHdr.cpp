@@ -0,0 +1,1258 @@
+msgcore
+nsmsghdr
+nsmsgdatabase
+nsmsgutils
+nsimsgheaderparser
+nsmsgmimecid
+nsimimeconverter
+nsxpidlstring
+nsimplisupports
+nsmsghdr
+nsimsgdbhdr
+define
+flagsinited
+define
+cachedvaluesinited
+define
+referencesinited
+define
+threadparentinited
+nsmsghdr
+nsmsghdr
+nsmsgdatabase
+db
+nsimdbrow
+dbrow
+mmdb
+db
+init
+mmdbrow
+dbrow
+mmdb
+mmdb
+addref
+mdboid
+outoid
+dbrow
+dbrow
+getoid
+mmdb
+getenv
+outoid
+nsok
+mmessagekey
+outoid
+moidid
+mmdb
+addhdrtousecache
+nsimsgdbhdr
+mmessagekey
+nsmsghdr
+init
+minitedvalues
+mstatusoffset
+xffffffff
+mmessagekey
+nsmsgkeynone
+mmessagesize
+mdate
+llzero
+mflags
+mmdbrow
+mnumreferences
+mthreadid
+nsmsgkeynone
+mthreadparent
+nsmsgkeynone
+nsresult
+nsmsghdr
+initcachedvalues
+nsresult
+err
+nsok
+mmdb
+mmdbrow
+nserrornullpointer
+minitedvalues
+cachedvaluesinited
+pruint
+uintvalue
+mdboid
+outoid
+mmdbrow
+getoid
+mmdb
+getenv
+outoid
+nsok
+mmessagekey
+outoid
+moidid
+err
+getuintcolumn
+mmdb
+mmessagesizecolumntoken
+mmessagesize
+err
+getuintcolumn
+mmdb
+mdatecolumntoken
+uintvalue
+nsmsgdatabase
+secondsprtime
+uintvalue
+mdate
+err
+getuintcolumn
+mmdb
+mmessagethreadidcolumntoken
+mthreadid
+err
+getuintcolumn
+mmdb
+mnumreferencescolumntoken
+uintvalue
+nssucceeded
+err
+mnumreferences
+pruint
+uintvalue
+nssucceeded
+err
+minitedvalues
+cachedvaluesinited
+err
+nsresult
+nsmsghdr
+initflags
+nsresult
+err
+nsok
+mmdb
+nserrornullpointer
+minitedvalues
+flagsinited
+err
+getuintcolumn
+mmdb
+mflagscolumntoken
+mflags
+mflags
+msgflagnew
+nssucceeded
+err
+minitedvalues
+flagsinited
+err
+nsmsghdr
+nsmsghdr
+mmdbrow
+mmdb
+nsrelease
+mmdbrow
+mmdb
+removehdrfromusecache
+nsimsgdbhdr
+mmessagekey
+mmdb
+release
+nsimethodimp
+nsmsghdr
+getmessagekey
+nsmsgkey
+result
+mmessagekey
+nsmsgkeynone
+mmdbrow
+mdboid
+outoid
+mmdbrow
+getoid
+mmdb
+getenv
+outoid
+nsok
+mmessagekey
+outoid
+moidid
+result
+mmessagekey
+nsok
+nsimethodimp
+nsmsghdr
+getthreadid
+nsmsgkey
+result
+minitedvalues
+cachedvaluesinited
+initcachedvalues
+result
+result
+mthreadid
+nsok
+nserrornullpointer
+nsimethodimp
+nsmsghdr
+setthreadid
+nsmsgkey
+inkey
+mthreadid
+inkey
+setuintcolumn
+mthreadid
+mmdb
+mmessagethreadidcolumntoken
+nsok
+nsimethodimp
+nsmsghdr
+setmessagekey
+nsmsgkey
+value
+mmessagekey
+value
+nsok
+nsresult
+nsmsghdr
+getrawflags
+pruint
+result
+minitedvalues
+flagsinited
+initflags
+result
+mflags
+nsok
+nsimethodimp
+nsmsghdr
+getflags
+pruint
+result
+minitedvalues
+flagsinited
+initflags
+mmdb
+result
+mmdb
+getstatusflags
+mflags
+result
+mflags
+ifdef
+debugbienvenu
+nsassertion
+mflags
+msgflagelided
+shouldn
+be
+set
+in
+db
+endif
+nsok
+nsimethodimp
+nsmsghdr
+setflags
+pruint
+flags
+ifdef
+debugbienvenu
+nsassertion
+mflags
+msgflagelided
+shouldn
+set
+flag
+on
+db
+endif
+mflags
+flags
+setuintcolumn
+mflags
+msgflagnew
+mmdb
+mflagscolumntoken
+nsok
+nsimethodimp
+nsmsghdr
+orflags
+pruint
+flags
+pruint
+result
+mflags
+flags
+flags
+setflags
+mflags
+flags
+result
+mflags
+nsok
+nsimethodimp
+nsmsghdr
+andflags
+pruint
+flags
+pruint
+result
+mflags
+flags
+mflags
+setflags
+mflags
+flags
+result
+mflags
+nsok
+nsimethodimp
+nsmsghdr
+markhasattachments
+prbool
+bhasattachments
+nsresult
+rv
+nsok
+mmdb
+nsmsgkey
+key
+rv
+getmessagekey
+key
+nssucceeded
+rv
+rv
+mmdb
+markhasattachments
+key
+bhasattachments
+nsnull
+rv
+nsimethodimp
+nsmsghdr
+markread
+prbool
+bread
+nsresult
+rv
+nsok
+mmdb
+nsmsgkey
+key
+rv
+getmessagekey
+key
+nssucceeded
+rv
+rv
+mmdb
+markread
+key
+bread
+nsnull
+rv
+nsimethodimp
+nsmsghdr
+markflagged
+prbool
+bflagged
+nsresult
+rv
+nsok
+mmdb
+nsmsgkey
+key
+rv
+getmessagekey
+key
+nssucceeded
+rv
+rv
+mmdb
+markmarked
+key
+bflagged
+nsnull
+rv
+nsimethodimp
+nsmsghdr
+getproperty
+propertyname
+nsstring
+resultproperty
+mmdb
+getpropertyasnsstring
+getmdbrow
+propertyname
+resultproperty
+nsimethodimp
+nsmsghdr
+setproperty
+propertyname
+nsstring
+propertystr
+mmdb
+setpropertyfromnsstring
+mmdbrow
+propertyname
+propertystr
+nsimethodimp
+nsmsghdr
+setstringproperty
+propertyname
+propertyvalue
+mmdb
+setproperty
+mmdbrow
+propertyname
+propertyvalue
+nsimethodimp
+nsmsghdr
+getstringproperty
+propertyname
+apropertyvalue
+mmdb
+getproperty
+mmdbrow
+propertyname
+apropertyvalue
+nsimethodimp
+nsmsghdr
+getuintproperty
+propertyname
+pruint
+presult
+mmdb
+getuintproperty
+getmdbrow
+propertyname
+presult
+nsimethodimp
+nsmsghdr
+setuintproperty
+propertyname
+pruint
+value
+mmdb
+setuintproperty
+getmdbrow
+propertyname
+value
+nsimethodimp
+nsmsghdr
+getnumreferences
+pruint
+result
+minitedvalues
+cachedvaluesinited
+initcachedvalues
+result
+mnumreferences
+nsok
+nsresult
+nsmsghdr
+parsereferences
+references
+startnextref
+references
+nscautostring
+resultreference
+startnextref
+startnextref
+startnextref
+getnextreference
+startnextref
+resultreference
+mreferences
+appendcstring
+resultreference
+mnumreferences
+mreferences
+count
+nsok
+nsimethodimp
+nsmsghdr
+getstringreference
+print
+refnum
+nscstring
+resultreference
+nsresult
+err
+nsok
+minitedvalues
+referencesinited
+references
+err
+mmdb
+rowcellcolumntoconstcharptr
+getmdbrow
+mmdb
+mreferencescolumntoken
+references
+nssucceeded
+err
+parsereferences
+references
+minitedvalues
+referencesinited
+refnum
+mnumreferences
+mreferences
+cstringat
+refnum
+resultreference
+err
+nsimethodimp
+nsmsghdr
+getdate
+prtime
+result
+minitedvalues
+cachedvaluesinited
+initcachedvalues
+result
+mdate
+nsok
+nsimethodimp
+nsmsghdr
+setmessageid
+messageid
+messageid
+messageid
+nscautostring
+tempmessageid
+messageid
+tempmessageid
+last
+tempmessageid
+setlength
+tempmessageid
+length
+setstringcolumn
+tempmessageid
+get
+mmdb
+mmessageidcolumntoken
+setstringcolumn
+messageid
+mmdb
+mmessageidcolumntoken
+nsimethodimp
+nsmsghdr
+setsubject
+subject
+setstringcolumn
+subject
+mmdb
+msubjectcolumntoken
+nsimethodimp
+nsmsghdr
+setauthor
+author
+setstringcolumn
+author
+mmdb
+msendercolumntoken
+nsimethodimp
+nsmsghdr
+setreferences
+references
+references
+mnumreferences
+parsereferences
+references
+setuintcolumn
+mnumreferences
+mmdb
+mnumreferencescolumntoken
+minitedvalues
+referencesinited
+setstringcolumn
+references
+mmdb
+mreferencescolumntoken
+nsimethodimp
+nsmsghdr
+setrecipients
+recipients
+setstringcolumn
+recipients
+mmdb
+mrecipientscolumntoken
+nsresult
+nsmsghdr
+buildrecipientsfromarray
+names
+addresses
+pruint
+numaddresses
+nscautostring
+allrecipients
+nsresult
+ret
+nsok
+curname
+names
+curaddress
+addresses
+nsimsgheaderparser
+headerparser
+mmdb
+getheaderparser
+pruint
+numaddresses
+curname
+strlen
+curname
+curaddress
+strlen
+curaddress
+allrecipients
+headerparser
+fulladdress
+ret
+headerparser
+makefulladdress
+nsnull
+curname
+curaddress
+fulladdress
+nssucceeded
+ret
+fulladdress
+allrecipients
+fulladdress
+nscrt
+free
+fulladdress
+strlen
+curname
+allrecipients
+curname
+allrecipients
+strlen
+curaddress
+allrecipients
+allrecipients
+curaddress
+allrecipients
+ret
+nsimethodimp
+nsmsghdr
+setrecipientsarray
+names
+addresses
+pruint
+numaddresses
+nsresult
+ret
+nscautostring
+allrecipients
+ret
+buildrecipientsfromarray
+names
+addresses
+numaddresses
+allrecipients
+nsfailed
+ret
+ret
+ret
+setrecipients
+allrecipients
+get
+ret
+nsimethodimp
+nsmsghdr
+setcclist
+cclist
+setstringcolumn
+cclist
+mmdb
+mcclistcolumntoken
+nsimethodimp
+nsmsghdr
+setcclistarray
+names
+addresses
+pruint
+numaddresses
+nsresult
+ret
+nscautostring
+allrecipients
+ret
+buildrecipientsfromarray
+names
+addresses
+numaddresses
+allrecipients
+nsfailed
+ret
+ret
+ret
+setcclist
+allrecipients
+get
+ret
+nsimethodimp
+nsmsghdr
+setmessagesize
+pruint
+messagesize
+setuintcolumn
+messagesize
+mmdb
+mmessagesizecolumntoken
+mmessagesize
+messagesize
+nsok
+nsimethodimp
+nsmsghdr
+getofflinemessagesize
+pruint
+result
+pruint
+size
+nsresult
+res
+getuintcolumn
+mmdb
+mofflinemessagesizecolumntoken
+size
+result
+size
+res
+nsimethodimp
+nsmsghdr
+setofflinemessagesize
+pruint
+messagesize
+setuintcolumn
+messagesize
+mmdb
+mofflinemessagesizecolumntoken
+nsok
+nsimethodimp
+nsmsghdr
+setlinecount
+pruint
+linecount
+setuintcolumn
+linecount
+mmdb
+mnumlinescolumntoken
+nsok
+nsimethodimp
+nsmsghdr
+setstatusoffset
+pruint
+statusoffset
+setuintcolumn
+statusoffset
+mmdb
+mstatusoffsetcolumntoken
+nsimethodimp
+nsmsghdr
+setdate
+prtime
+date
+mdate
+date
+pruint
+seconds
+nsmsgdatabase
+prtimeseconds
+date
+seconds
+setuintcolumn
+pruint
+seconds
+mmdb
+mdatecolumntoken
+nsimethodimp
+nsmsghdr
+getstatusoffset
+pruint
+result
+pruint
+offset
+nsresult
+res
+getuintcolumn
+mmdb
+mstatusoffsetcolumntoken
+offset
+result
+offset
+res
+nsimethodimp
+nsmsghdr
+setpriority
+nsmsgpriorityvalue
+priority
+setuintcolumn
+pruint
+priority
+mmdb
+mprioritycolumntoken
+nsok
+nsimethodimp
+nsmsghdr
+getpriority
+nsmsgpriorityvalue
+result
+result
+nserrornullpointer
+pruint
+priority
+nsresult
+rv
+getuintcolumn
+mmdb
+mprioritycolumntoken
+priority
+nsfailed
+rv
+rv
+result
+nsmsgpriorityvalue
+priority
+nsok
+nsimethodimp
+nsmsghdr
+setlabel
+nsmsglabelvalue
+label
+setuintcolumn
+pruint
+label
+mmdb
+mlabelcolumntoken
+nsok
+nsimethodimp
+nsmsghdr
+getlabel
+nsmsglabelvalue
+result
+nsensureargpointer
+result
+getuintcolumn
+mmdb
+mlabelcolumntoken
+result
+nsimethodimp
+nsmsghdr
+getmessageoffset
+pruint
+result
+nsensurearg
+result
+pruint
+rawflags
+getrawflags
+rawflags
+rawflags
+msgflagoffline
+getuintcolumn
+mmdb
+mofflinemsgoffsetcolumntoken
+result
+result
+mmessagekey
+nsok
+nsimethodimp
+nsmsghdr
+setmessageoffset
+pruint
+offset
+setuintcolumn
+offset
+mmdb
+mofflinemsgoffsetcolumntoken
+nsok
+nsimethodimp
+nsmsghdr
+getmessagesize
+pruint
+result
+pruint
+size
+nsresult
+res
+getuintcolumn
+mmdb
+mmessagesizecolumntoken
+size
+result
+size
+res
+nsimethodimp
+nsmsghdr
+getlinecount
+pruint
+result
+pruint
+linecount
+nsresult
+res
+getuintcolumn
+mmdb
+mnumlinescolumntoken
+linecount
+result
+linecount
+res
+nsimethodimp
+nsmsghdr
+setprioritystring
+priority
+nsmsgpriorityvalue
+priorityval
+nsmsgpriority
+normal
+nsresult
+res
+res
+nsmsggetpriorityfromstring
+priority
+priorityval
+setpriority
+priorityval
+nsimethodimp
+nsmsghdr
+getauthor
+resultauthor
+mmdb
+rowcellcolumntocharptr
+getmdbrow
+mmdb
+msendercolumntoken
+resultauthor
+nsimethodimp
+nsmsghdr
+getsubject
+resultsubject
+mmdb
+rowcellcolumntocharptr
+getmdbrow
+mmdb
+msubjectcolumntoken
+resultsubject
+nsimethodimp
+nsmsghdr
+getrecipients
+resultrecipients
+mmdb
+rowcellcolumntocharptr
+getmdbrow
+mmdb
+mrecipientscolumntoken
+resultrecipients
+nsimethodimp
+nsmsghdr
+getcclist
+resultcclist
+mmdb
+rowcellcolumntocharptr
+getmdbrow
+mmdb
+mcclistcolumntoken
+resultcclist
+nsimethodimp
+nsmsghdr
+getmessageid
+resultmessageid
+mmdb
+rowcellcolumntocharptr
+getmdbrow
+mmdb
+mmessageidcolumntoken
+resultmessageid
+nsimethodimp
+nsmsghdr
+getmimedecodedauthor
+prunichar
+resultauthor
+mmdb
+rowcellcolumntomimedecodedstring
+getmdbrow
+mmdb
+msendercolumntoken
+resultauthor
+nsimethodimp
+nsmsghdr
+getmimedecodedsubject
+prunichar
+resultsubject
+mmdb
+rowcellcolumntomimedecodedstring
+getmdbrow
+mmdb
+msubjectcolumntoken
+resultsubject
+nsimethodimp
+nsmsghdr
+getmimedecodedrecipients
+prunichar
+resultrecipients
+mmdb
+rowcellcolumntomimedecodedstring
+getmdbrow
+mmdb
+mrecipientscolumntoken
+resultrecipients
+nsimethodimp
+nsmsghdr
+getauthorcollationkey
+pruint
+resultauthor
+pruint
+len
+mmdb
+rowcellcolumntoaddresscollationkey
+getmdbrow
+mmdb
+msendercolumntoken
+resultauthor
+len
+nsimethodimp
+nsmsghdr
+getsubjectcollationkey
+pruint
+resultsubject
+pruint
+len
+mmdb
+rowcellcolumntocollationkey
+getmdbrow
+mmdb
+msubjectcolumntoken
+resultsubject
+len
+nsimethodimp
+nsmsghdr
+getrecipientscollationkey
+pruint
+resultrecipients
+pruint
+len
+mmdb
+rowcellcolumntocollationkey
+getmdbrow
+mmdb
+mrecipientscolumntoken
+resultrecipients
+len
+nsimethodimp
+nsmsghdr
+getcharset
+acharset
+mmdb
+rowcellcolumntocharptr
+getmdbrow
+mmdb
+mmessagecharsetcolumntoken
+acharset
+nsimethodimp
+nsmsghdr
+setcharset
+acharset
+setstringcolumn
+acharset
+mmdb
+mmessagecharsetcolumntoken
+nsimethodimp
+nsmsghdr
+setthreadparent
+nsmsgkey
+inkey
+mthreadparent
+inkey
+setuintcolumn
+mthreadparent
+mmdb
+mthreadparentcolumntoken
+minitedvalues
+threadparentinited
+nsok
+nsimethodimp
+nsmsghdr
+getthreadparent
+nsmsgkey
+result
+nsresult
+res
+minitedvalues
+threadparentinited
+res
+getuintcolumn
+mmdb
+mthreadparentcolumntoken
+mthreadparent
+nsmsgkeynone
+nssucceeded
+res
+minitedvalues
+threadparentinited
+result
+mthreadparent
+nsok
+nsimethodimp
+nsmsghdr
+getfolder
+nsimsgfolder
+result
+nsensurearg
+result
+mmdb
+mmdb
+mfolder
+result
+mmdb
+mfolder
+nsaddref
+result
+result
+nsnull
+nsok
+nsresult
+nsmsghdr
+setstringcolumn
+str
+mdbtoken
+token
+mmdb
+charptrtorowcellcolumn
+mmdbrow
+token
+str
+nsresult
+nsmsghdr
+setuintcolumn
+pruint
+value
+mdbtoken
+token
+mmdb
+uinttorowcellcolumn
+mmdbrow
+token
+value
+nsresult
+nsmsghdr
+getuintcolumn
+mdbtoken
+token
+pruint
+pvalue
+pruint
+defaultvalue
+mmdb
+rowcellcolumntouint
+getmdbrow
+token
+pvalue
+defaultvalue
+nsmsghdr
+getnextreference
+startnextref
+nscstring
+reference
+ptr
+startnextref
+reference
+truncate
+ptr
+ptr
+ptr
+nscrt
+cr
+ptr
+nscrt
+lf
+ptr
+ptr
+ptr
+ptr
+ptr
+reference
+ptr
+ptr
+ptr
+ptr
+nsmsghdr
+getprevreference
+prevref
+nscstring
+reference
+ptr
+prevref
+ptr
+ptr
+ptr
+ptr
+ptr
+ptr
+ptr
+getnextreference
+ptr
+reference
+ptr
+ptr
+ptr
+prbool
+nsmsghdr
+isparentof
+nsimsgdbhdr
+possiblechild
+pruint
+numreferences
+possiblechild
+getnumreferences
+numreferences
+nscautostring
+reference
+nsxpidlcstring
+messageid
+getmessageid
+gettercopies
+messageid
+numreferences
+possiblechild
+getstringreference
+numreferences
+reference
+reference
+equals
+messageid
+prfalse
+nsimethodimp
+nsmsghdr
+getisread
+prbool
+isread
+nsensureargpointer
+isread
+minitedvalues
+flagsinited
+initflags
+isread
+mflags
+msgflagread
+nsok
+nsimethodimp
+nsmsghdr
+getisflagged
+prbool
+isflagged
+nsensureargpointer
+isflagged
+minitedvalues
+flagsinited
+initflags
+isflagged
+mflags
+msgflagmarked
+nsok
\ No newline at end of file
@@ -0,0 +1,1787 @@
+msgcore
+nsmsgthread
+nsmsgdatabase
+nscomptr
+mailnewstypes
+nsimplisupports
+nsmsgthread
+nsmsgthread
+nsmsgthread
+nsmsgthread
+mozcountctor
+nsmsgthread
+init
+nsmsgthread
+nsmsgthread
+nsmsgdatabase
+db
+nsimdbtable
+table
+mozcountctor
+nsmsgthread
+init
+mmdbtable
+table
+mmdbdb
+db
+db
+db
+addref
+table
+db
+table
+getmetarow
+db
+getenv
+nsnull
+nsnull
+mmetarow
+initcachedvalues
+nsmsgthread
+init
+mthreadkey
+nsmsgkeynone
+mthreadrootkey
+nsmsgkeynone
+mnumchildren
+mnumunreadchildren
+mflags
+mmdbtable
+nsnull
+mmdbdb
+nsnull
+mmetarow
+nsnull
+mcachedvaluesinitialized
+prfalse
+nsmsgthread
+nsmsgthread
+mozcountdtor
+nsmsgthread
+mmdbtable
+mmdbtable
+release
+mmdbdb
+mmdbdb
+release
+mmetarow
+mmetarow
+release
+nsresult
+nsmsgthread
+initcachedvalues
+nsresult
+err
+nsok
+mmdbdb
+mmetarow
+nserrornullpointer
+mcachedvaluesinitialized
+err
+mmdbdb
+rowcellcolumntouint
+mmetarow
+mmdbdb
+mthreadflagscolumntoken
+mflags
+err
+mmdbdb
+rowcellcolumntouint
+mmetarow
+mmdbdb
+mthreadchildrencolumntoken
+mnumchildren
+err
+mmdbdb
+rowcellcolumntouint
+mmetarow
+mmdbdb
+mthreadidcolumntoken
+mthreadkey
+err
+mmdbdb
+rowcellcolumntouint
+mmetarow
+mmdbdb
+mthreadunreadchildrencolumntoken
+mnumunreadchildren
+err
+mmdbdb
+rowcellcolumntouint
+mmetarow
+mmdbdb
+mthreadrootkeycolumntoken
+mthreadrootkey
+nsmsgkeynone
+pruint
+rowcount
+mmdbtable
+getcount
+mmdbdb
+getenv
+rowcount
+mnumchildren
+rowcount
+changechildcount
+print
+rowcount
+print
+mnumchildren
+print
+mnumunreadchildren
+changeunreadchildcount
+print
+mnumunreadchildren
+nssucceeded
+err
+mcachedvaluesinitialized
+prtrue
+err
+nsimethodimp
+nsmsgthread
+setthreadkey
+nsmsgkey
+threadkey
+nsresult
+ret
+nsok
+mthreadkey
+threadkey
+setthreadrootkey
+threadkey
+ret
+mmdbdb
+uinttorowcellcolumn
+mmetarow
+mmdbdb
+mthreadidcolumntoken
+threadkey
+ret
+nsimethodimp
+nsmsgthread
+getthreadkey
+nsmsgkey
+result
+result
+nsresult
+res
+mmdbdb
+rowcellcolumntouint
+mmetarow
+mmdbdb
+mthreadidcolumntoken
+mthreadkey
+result
+mthreadkey
+res
+nserrornullpointer
+nsimethodimp
+nsmsgthread
+getflags
+pruint
+result
+result
+nsresult
+res
+mmdbdb
+rowcellcolumntouint
+mmetarow
+mmdbdb
+mthreadflagscolumntoken
+mflags
+result
+mflags
+res
+nserrornullpointer
+nsimethodimp
+nsmsgthread
+setflags
+pruint
+flags
+nsresult
+ret
+nsok
+mflags
+flags
+ret
+mmdbdb
+uinttorowcellcolumn
+mmetarow
+mmdbdb
+mthreadflagscolumntoken
+mflags
+ret
+nsimethodimp
+nsmsgthread
+setsubject
+subject
+mmdbdb
+charptrtorowcellcolumn
+mmetarow
+mmdbdb
+mthreadsubjectcolumntoken
+subject
+nsimethodimp
+nsmsgthread
+getsubject
+result
+result
+nserrornullpointer
+nsresult
+ret
+mmdbdb
+rowcellcolumntocharptr
+mmetarow
+mmdbdb
+mthreadsubjectcolumntoken
+result
+ret
+nsimethodimp
+nsmsgthread
+getnumchildren
+pruint
+result
+result
+result
+mnumchildren
+nsok
+nserrornullpointer
+nsimethodimp
+nsmsgthread
+getnumunreadchildren
+pruint
+result
+result
+result
+mnumunreadchildren
+nsok
+nserrornullpointer
+nsresult
+nsmsgthread
+rerootthread
+nsimsgdbhdr
+newparentofoldroot
+nsimsgdbhdr
+oldroot
+nsidbchangeannouncer
+announcer
+nscomptr
+nsimsgdbhdr
+ancestorhdr
+newparentofoldroot
+nsmsgkey
+newroot
+newparentofoldroot
+getmessagekey
+newroot
+mdbpos
+outpos
+nsmsgkey
+newhdrancestor
+nsresult
+rv
+nsok
+ancestorhdr
+getthreadparent
+newhdrancestor
+newhdrancestor
+nsmsgkeynone
+newhdrancestor
+mthreadrootkey
+newhdrancestor
+newroot
+newroot
+newhdrancestor
+rv
+mmdbdb
+getmsghdrforkey
+newroot
+getteraddrefs
+ancestorhdr
+nssucceeded
+rv
+ancestorhdr
+newhdrancestor
+nsmsgkeynone
+newhdrancestor
+mthreadrootkey
+newhdrancestor
+newroot
+setthreadrootkey
+newroot
+reparentnonreferencechildrenof
+oldroot
+newroot
+announcer
+ancestorhdr
+nsimsghdr
+msghdr
+ancestorhdr
+nsmsghdr
+rootmsghdr
+nsstaticcast
+nsmsghdr
+msghdr
+nsimdbrow
+newroothdrrow
+rootmsghdr
+getmdbrow
+mmdbtable
+moverow
+mmdbdb
+getenv
+newroothdrrow
+outpos
+ancestorhdr
+setthreadparent
+nsmsgkeynone
+rv
+nsimethodimp
+nsmsgthread
+addchild
+nsimsgdbhdr
+child
+nsimsgdbhdr
+inreplyto
+prbool
+threadinthread
+nsidbchangeannouncer
+announcer
+nsresult
+ret
+nsok
+nsmsghdr
+hdr
+nsstaticcast
+nsmsghdr
+child
+pruint
+newhdrflags
+nsmsgkey
+newhdrkey
+prbool
+parentkeyneedssetting
+prtrue
+nsimdbrow
+hdrrow
+hdr
+getmdbrow
+hdr
+getflags
+newhdrflags
+hdr
+getmessagekey
+newhdrkey
+newhdrflags
+msgflagignored
+setflags
+mflags
+msgflagignored
+newhdrflags
+msgflagwatched
+setflags
+mflags
+msgflagwatched
+child
+andflags
+msgflagwatched
+msgflagignored
+newhdrflags
+pruint
+numchildren
+pruint
+childindex
+getnumchildren
+numchildren
+numchildren
+setthreadrootkey
+newhdrkey
+mmdbtable
+mmdbtable
+addrow
+mmdbdb
+getenv
+hdrrow
+changechildcount
+newhdrflags
+msgflagread
+changeunreadchildcount
+inreplyto
+nsmsgkey
+parentkey
+inreplyto
+getmessagekey
+parentkey
+child
+setthreadparent
+parentkey
+parentkeyneedssetting
+prfalse
+nscomptr
+nsimsgdbhdr
+curhdr
+childindex
+childindex
+numchildren
+childindex
+nsmsgkey
+msgkey
+ret
+getchildhdrat
+childindex
+getteraddrefs
+curhdr
+nssucceeded
+ret
+curhdr
+hdr
+isparentof
+curhdr
+nsmsgkey
+oldthreadparent
+mdbpos
+outpos
+mmdbtable
+moverow
+mmdbdb
+getenv
+hdrrow
+childindex
+outpos
+curhdr
+getthreadparent
+oldthreadparent
+curhdr
+getmessagekey
+msgkey
+msgkey
+mthreadrootkey
+rerootthread
+child
+curhdr
+announcer
+parentkeyneedssetting
+prfalse
+curhdr
+setthreadparent
+newhdrkey
+msgkey
+newhdrkey
+parentkeyneedssetting
+prfalse
+announcer
+announcer
+notifyparentchangedall
+msgkey
+oldthreadparent
+newhdrkey
+nsnull
+ifdef
+debugbienvenu
+newhdrkey
+mthreadkey
+printf
+adding
+second
+level
+child
+endif
+numchildren
+newhdrflags
+msgflaghasre
+inreplyto
+prtime
+newhdrdate
+prtime
+toplevelhdrdate
+nscomptr
+nsimsgdbhdr
+toplevelhdr
+ret
+getroothdr
+nsnull
+getteraddrefs
+toplevelhdr
+nssucceeded
+ret
+toplevelhdr
+child
+getdate
+newhdrdate
+toplevelhdr
+getdate
+toplevelhdrdate
+llcmp
+newhdrdate
+toplevelhdrdate
+rerootthread
+child
+toplevelhdr
+announcer
+mdbpos
+outpos
+mmdbtable
+moverow
+mmdbdb
+getenv
+hdrrow
+outpos
+toplevelhdr
+setthreadparent
+newhdrkey
+parentkeyneedssetting
+prfalse
+setthreadrootkey
+newhdrkey
+child
+setthreadparent
+nsmsgkeynone
+reparentnonreferencechildrenof
+toplevelhdr
+newhdrkey
+announcer
+numchildren
+parentkeyneedssetting
+child
+setthreadparent
+mthreadrootkey
+mflags
+msgflagignored
+mmdbdb
+mmdbdb
+markhdrread
+child
+prtrue
+nsnull
+ret
+nsresult
+nsmsgthread
+reparentnonreferencechildrenof
+nsimsgdbhdr
+toplevelhdr
+nsmsgkey
+newparentkey
+nsidbchangeannouncer
+announcer
+nscomptr
+nsimsgdbhdr
+curhdr
+pruint
+numchildren
+pruint
+childindex
+getnumchildren
+numchildren
+childindex
+childindex
+numchildren
+childindex
+nsmsgkey
+msgkey
+toplevelhdr
+getmessagekey
+msgkey
+nsresult
+ret
+getchildhdrat
+childindex
+getteraddrefs
+curhdr
+nssucceeded
+ret
+curhdr
+nsmsgkey
+oldthreadparent
+curhdrkey
+nsimsgdbhdr
+curmsghdr
+curhdr
+nsmsghdr
+toplevelmsghdr
+nsstaticcast
+nsmsghdr
+curmsghdr
+curhdr
+getthreadparent
+oldthreadparent
+curhdr
+getmessagekey
+curhdrkey
+oldthreadparent
+msgkey
+curhdrkey
+newparentkey
+toplevelmsghdr
+isparentof
+curhdr
+curhdr
+getthreadparent
+oldthreadparent
+curhdr
+setthreadparent
+newparentkey
+announcer
+announcer
+notifyparentchangedall
+curhdrkey
+oldthreadparent
+newparentkey
+nsnull
+nsok
+nsimethodimp
+nsmsgthread
+getchildkeyat
+print
+aindex
+nsmsgkey
+result
+nsresult
+ret
+nsok
+mdboid
+oid
+ret
+mmdbtable
+postooid
+mmdbdb
+getenv
+aindex
+oid
+ret
+result
+oid
+moidid
+ret
+nsimethodimp
+nsmsgthread
+getchildat
+print
+aindex
+nsimsgdbhdr
+result
+nsresult
+ret
+nsok
+mdboid
+oid
+nsimdbrow
+hdrrow
+nsnull
+ret
+mmdbtable
+postooid
+mmdbdb
+getenv
+aindex
+oid
+ret
+nsok
+ret
+mmdbtable
+postorow
+mmdbdb
+getenv
+aindex
+hdrrow
+nssucceeded
+ret
+hdrrow
+ret
+mmdbdb
+createmsghdr
+hdrrow
+oid
+moidid
+result
+ret
+nsok
+nsok
+nsmsgmessagenotfound
+nsimethodimp
+nsmsgthread
+getchild
+nsmsgkey
+msgkey
+nsimsgdbhdr
+result
+nsresult
+ret
+nsok
+mdbbool
+hasoid
+mdboid
+rowobjectid
+result
+mmdbtable
+nserrornullpointer
+result
+rowobjectid
+moidid
+msgkey
+rowobjectid
+moidscope
+mmdbdb
+mhdrrowscopetoken
+ret
+mmdbtable
+hasoid
+mmdbdb
+getenv
+rowobjectid
+hasoid
+nssucceeded
+ret
+hasoid
+mmdbdb
+mmdbdb
+mmdbstore
+nsimdbrow
+hdrrow
+nsnull
+ret
+mmdbdb
+mmdbstore
+getrow
+mmdbdb
+getenv
+rowobjectid
+hdrrow
+ret
+nsok
+hdrrow
+mmdbdb
+ret
+mmdbdb
+createmsghdr
+hdrrow
+msgkey
+result
+ret
+nsimethodimp
+nsmsgthread
+getchildhdrat
+print
+aindex
+nsimsgdbhdr
+result
+nsresult
+ret
+nsok
+nsimdbrow
+resultrow
+mdbpos
+pos
+aindex
+result
+nserrornullpointer
+result
+nsnull
+aindex
+print
+mnumchildren
+nsok
+nsimdbtablerowcursor
+rowcursor
+ret
+mmdbtable
+gettablerowcursor
+mmdbdb
+getenv
+pos
+rowcursor
+ret
+nserrorfailure
+ret
+rowcursor
+nextrow
+mmdbdb
+getenv
+resultrow
+pos
+nsrelease
+rowcursor
+nsfailed
+ret
+resultrow
+ret
+mdboid
+outoid
+nsmsgkey
+key
+resultrow
+getoid
+mmdbdb
+getenv
+outoid
+nsok
+key
+outoid
+moidid
+ret
+mmdbdb
+createmsghdr
+resultrow
+key
+result
+nsfailed
+ret
+ret
+ret
+nsimethodimp
+nsmsgthread
+removechildat
+print
+aindex
+nsresult
+ret
+nsok
+ret
+nsresult
+nsmsgthread
+removechild
+nsmsgkey
+msgkey
+nsresult
+ret
+nsok
+mdboid
+rowobjectid
+rowobjectid
+moidid
+msgkey
+rowobjectid
+moidscope
+mmdbdb
+mhdrrowscopetoken
+ret
+mmdbtable
+cutoid
+mmdbdb
+getenv
+rowobjectid
+mnumchildren
+mmdbdb
+mmdballthreadstable
+mdboid
+rowid
+rowid
+moidid
+mthreadkey
+rowid
+moidscope
+mmdbdb
+mthreadrowscopetoken
+mmdbdb
+mmdballthreadstable
+cutoid
+mmdbdb
+getenv
+rowid
+mnumchildren
+mmetarow
+mmdbdb
+mmetarow
+cutallcolumns
+mmdbdb
+getenv
+endif
+ret
+nsimethodimp
+nsmsgthread
+removechildhdr
+nsimsgdbhdr
+child
+nsidbchangeannouncer
+announcer
+pruint
+flags
+nsmsgkey
+key
+nsmsgkey
+threadparent
+child
+nserrornullpointer
+child
+getflags
+flags
+child
+getmessagekey
+key
+child
+getthreadparent
+threadparent
+reparentchildrenof
+key
+threadparent
+announcer
+flags
+msgflagread
+changeunreadchildcount
+changechildcount
+removechild
+key
+nsresult
+nsmsgthread
+reparentchildrenof
+nsmsgkey
+oldparent
+nsmsgkey
+newparent
+nsidbchangeannouncer
+announcer
+nsresult
+rv
+nsok
+pruint
+numchildren
+pruint
+childindex
+getnumchildren
+numchildren
+nscomptr
+nsimsgdbhdr
+curhdr
+numchildren
+childindex
+childindex
+numchildren
+childindex
+rv
+getchildhdrat
+childindex
+getteraddrefs
+curhdr
+nssucceeded
+rv
+curhdr
+nsmsgkey
+threadparent
+curhdr
+getthreadparent
+threadparent
+threadparent
+oldparent
+nsmsgkey
+curkey
+curhdr
+setthreadparent
+newparent
+curhdr
+getmessagekey
+curkey
+announcer
+announcer
+notifyparentchangedall
+curkey
+oldparent
+newparent
+nsnull
+newparent
+nsmsgkeynone
+setthreadrootkey
+curkey
+newparent
+curkey
+rv
+nsimethodimp
+nsmsgthread
+markchildread
+prbool
+bread
+nsresult
+ret
+nsok
+bread
+changeunreadchildcount
+changeunreadchildcount
+ret
+nsmsgthreadenumerator
+nsisimpleenumerator
+nsdeclisupports
+nsdeclnsisimpleenumerator
+nsresult
+nsmsgthreadenumeratorfilter
+nsimsgdbhdr
+hdr
+closure
+nsmsgthreadenumerator
+nsmsgthread
+thread
+nsmsgkey
+startkey
+nsmsgthreadenumeratorfilter
+filter
+closure
+print
+msgkeyfirstchildindex
+nsmsgkey
+inmsgkey
+nsmsgthreadenumerator
+nsresult
+prefetch
+nsimdbtablerowcursor
+mrowcursor
+nscomptr
+nsimsgdbhdr
+mresulthdr
+nsmsgthread
+mthread
+nsmsgkey
+mthreadparentkey
+nsmsgkey
+mfirstmsgkey
+print
+mchildindex
+prbool
+mdone
+prbool
+mneedtoprefetch
+nsmsgthreadenumeratorfilter
+mfilter
+mclosure
+prbool
+mfoundchildren
+nsmsgthreadenumerator
+nsmsgthreadenumerator
+nsmsgthread
+thread
+nsmsgkey
+startkey
+nsmsgthreadenumeratorfilter
+filter
+closure
+mrowcursor
+nsnull
+mdone
+prfalse
+mfilter
+filter
+mclosure
+closure
+mfoundchildren
+prfalse
+mthreadparentkey
+startkey
+mchildindex
+mthread
+thread
+mneedtoprefetch
+prtrue
+mfirstmsgkey
+nsmsgkeynone
+nsresult
+rv
+mthread
+getroothdr
+nsnull
+getteraddrefs
+mresulthdr
+nssucceeded
+rv
+mresulthdr
+mresulthdr
+getmessagekey
+mfirstmsgkey
+pruint
+numchildren
+mthread
+getnumchildren
+numchildren
+mthreadparentkey
+nsmsgkeynone
+nsmsgkey
+msgkey
+nsmsgkeynone
+pruint
+childindex
+childindex
+childindex
+numchildren
+childindex
+rv
+mthread
+getchildhdrat
+childindex
+getteraddrefs
+mresulthdr
+nssucceeded
+rv
+mresulthdr
+mresulthdr
+getmessagekey
+msgkey
+msgkey
+startkey
+mchildindex
+msgkeyfirstchildindex
+msgkey
+mdone
+mchildindex
+mdone
+nsassertion
+prfalse
+couldn
+get
+child
+from
+thread
+ifdef
+debugbienvenu
+nscomptr
+nsimsgdbhdr
+child
+pruint
+childindex
+childindex
+numchildren
+childindex
+rv
+mthread
+getchildhdrat
+childindex
+getteraddrefs
+child
+nssucceeded
+rv
+child
+nsmsgkey
+threadparent
+nsmsgkey
+msgkey
+child
+getmessagekey
+msgkey
+child
+getthreadparent
+threadparent
+printf
+index
+ld
+key
+ld
+parent
+lx
+childindex
+msgkey
+threadparent
+endif
+nsaddref
+thread
+nsmsgthreadenumerator
+nsmsgthreadenumerator
+nsrelease
+mthread
+nsimplisupports
+nsmsgthreadenumerator
+nsisimpleenumerator
+print
+nsmsgthreadenumerator
+msgkeyfirstchildindex
+nsmsgkey
+inmsgkey
+pruint
+numchildren
+nscomptr
+nsimsgdbhdr
+curhdr
+print
+firstchildindex
+mthread
+getnumchildren
+numchildren
+pruint
+curchildindex
+curchildindex
+numchildren
+curchildindex
+nsresult
+rv
+mthread
+getchildhdrat
+curchildindex
+getteraddrefs
+curhdr
+nssucceeded
+rv
+curhdr
+nsmsgkey
+parentkey
+curhdr
+getthreadparent
+parentkey
+parentkey
+inmsgkey
+firstchildindex
+curchildindex
+ifdef
+debugbienvenu
+printf
+first
+child
+index
+of
+ld
+ld
+inmsgkey
+firstchildindex
+endif
+firstchildindex
+nsimethodimp
+nsmsgthreadenumerator
+getnext
+nsisupports
+aitem
+aitem
+nserrornullpointer
+nsresult
+rv
+nsok
+mneedtoprefetch
+rv
+prefetch
+nssucceeded
+rv
+mresulthdr
+aitem
+mresulthdr
+nsaddref
+aitem
+mneedtoprefetch
+prtrue
+rv
+nsresult
+nsmsgthreadenumerator
+prefetch
+nsresult
+rv
+nsok
+mresulthdr
+nsnull
+mthreadparentkey
+nsmsgkeynone
+rv
+mthread
+getroothdr
+mchildindex
+getteraddrefs
+mresulthdr
+nsassertion
+nssucceeded
+rv
+mresulthdr
+better
+be
+able
+to
+get
+root
+hdr
+mchildindex
+mdone
+pruint
+numchildren
+mthread
+getnumchildren
+numchildren
+mchildindex
+print
+numchildren
+rv
+mthread
+getchildhdrat
+mchildindex
+getteraddrefs
+mresulthdr
+nssucceeded
+rv
+mresulthdr
+nsmsgkey
+parentkey
+nsmsgkey
+curkey
+mfilter
+nsfailed
+mfilter
+mresulthdr
+mclosure
+mresulthdr
+nsnull
+mresulthdr
+getthreadparent
+parentkey
+mresulthdr
+getmessagekey
+curkey
+parentkey
+mthreadparentkey
+parentkey
+nsmsgkeynone
+mthreadparentkey
+mfirstmsgkey
+curkey
+mthreadparentkey
+mresulthdr
+nsnull
+nsassertion
+prfalse
+better
+be
+able
+to
+get
+child
+mresulthdr
+mthreadparentkey
+mfirstmsgkey
+mfoundchildren
+numchildren
+mthread
+reparentmsgswithinvalidparent
+numchildren
+mthreadparentkey
+mresulthdr
+mdone
+prtrue
+nserrorfailure
+nsfailed
+rv
+mdone
+prtrue
+rv
+mneedtoprefetch
+prfalse
+mfoundchildren
+prtrue
+ifdef
+debugbienvenu
+nsmsgkey
+debugmsgkey
+mresulthdr
+getmessagekey
+debugmsgkey
+printf
+next
+ld
+ld
+mthreadparentkey
+debugmsgkey
+endif
+rv
+nsimethodimp
+nsmsgthreadenumerator
+hasmoreelements
+prbool
+aresult
+aresult
+nserrornullpointer
+mneedtoprefetch
+prefetch
+aresult
+mdone
+nsok
+nsresult
+nsmsgthreadunreadfilter
+nsimsgdbhdr
+msg
+closure
+nsmsgdatabase
+db
+nsmsgdatabase
+closure
+prbool
+wasread
+prtrue
+nsresult
+rv
+db
+isheaderread
+msg
+wasread
+nsfailed
+rv
+rv
+wasread
+nsok
+nserrorfailure
+nsimethodimp
+nsmsgthread
+enumerateunreadmessages
+nsmsgkey
+parentkey
+nsisimpleenumerator
+result
+nsresult
+ret
+nsok
+nsmsgthreadenumerator
+nsmsgthreadenumerator
+parentkey
+nsmsgthreadunreadfilter
+mmdbdb
+nsnull
+nserroroutofmemory
+nsaddref
+result
+nsok
+ret
+nsimethodimp
+nsmsgthread
+enumeratemessages
+nsmsgkey
+parentkey
+nsisimpleenumerator
+result
+nsresult
+ret
+nsok
+nsmsgthreadenumerator
+nsmsgthreadenumerator
+parentkey
+nsnull
+nsnull
+nsnull
+nserroroutofmemory
+nsaddref
+result
+nsok
+ret
+nsresult
+nsmsgthread
+reparentmsgswithinvalidparent
+pruint
+numchildren
+nsmsgkey
+threadparentkey
+nsresult
+ret
+nsok
+print
+childindex
+childindex
+print
+numchildren
+childindex
+nscomptr
+nsimsgdbhdr
+curchild
+ret
+getchildhdrat
+childindex
+getteraddrefs
+curchild
+nssucceeded
+ret
+curchild
+nsmsgkey
+parentkey
+nscomptr
+nsimsgdbhdr
+parent
+curchild
+getthreadparent
+parentkey
+parentkey
+nsmsgkeynone
+getchild
+parentkey
+getteraddrefs
+parent
+parent
+curchild
+setthreadparent
+threadparentkey
+ret
+nsimethodimp
+nsmsgthread
+getroothdr
+print
+resultindex
+nsimsgdbhdr
+result
+nsresult
+ret
+result
+nserrornullpointer
+result
+nsnull
+mthreadrootkey
+nsmsgkeynone
+ret
+getchildhdrforkey
+mthreadrootkey
+result
+resultindex
+nssucceeded
+ret
+result
+ret
+printf
+need
+to
+reset
+thread
+root
+key
+pruint
+numchildren
+nsmsgkey
+threadparentkey
+nsmsgkeynone
+getnumchildren
+numchildren
+print
+childindex
+childindex
+print
+numchildren
+childindex
+nscomptr
+nsimsgdbhdr
+curchild
+ret
+getchildhdrat
+childindex
+getteraddrefs
+curchild
+nssucceeded
+ret
+curchild
+nsmsgkey
+parentkey
+curchild
+getthreadparent
+parentkey
+parentkey
+nsmsgkeynone
+nsassertion
+result
+two
+top
+level
+msgs
+good
+curchild
+getmessagekey
+threadparentkey
+setthreadrootkey
+threadparentkey
+resultindex
+resultindex
+childindex
+result
+curchild
+nsaddref
+result
+reparentmsgswithinvalidparent
+numchildren
+threadparentkey
+result
+nsok
+resultindex
+resultindex
+getchildhdrat
+result
+nsresult
+nsmsgthread
+changechildcount
+print
+delta
+nsresult
+ret
+nsok
+pruint
+childcount
+mmdbdb
+rowcellcolumntouint
+mmetarow
+mmdbdb
+mthreadchildrencolumntoken
+childcount
+nsassertion
+childcount
+delta
+child
+count
+gone
+negative
+childcount
+delta
+nsassertion
+print
+childcount
+child
+count
+gone
+to
+below
+print
+childcount
+childcount
+ret
+mmdbdb
+uinttorowcellcolumn
+mmetarow
+mmdbdb
+mthreadchildrencolumntoken
+childcount
+mnumchildren
+childcount
+ret
+nsresult
+nsmsgthread
+changeunreadchildcount
+print
+delta
+nsresult
+ret
+nsok
+pruint
+childcount
+mmdbdb
+rowcellcolumntouint
+mmetarow
+mmdbdb
+mthreadunreadchildrencolumntoken
+childcount
+childcount
+delta
+print
+childcount
+ifdef
+debugbienvenu
+nsassertion
+prfalse
+negative
+unread
+child
+count
+endif
+childcount
+ret
+mmdbdb
+uinttorowcellcolumn
+mmetarow
+mmdbdb
+mthreadunreadchildrencolumntoken
+childcount
+mnumunreadchildren
+childcount
+ret
+nsresult
+nsmsgthread
+setthreadrootkey
+nsmsgkey
+threadrootkey
+nsresult
+ret
+nsok
+mthreadrootkey
+threadrootkey
+ret
+mmdbdb
+uinttorowcellcolumn
+mmetarow
+mmdbdb
+mthreadrootkeycolumntoken
+threadrootkey
+ret
+nsresult
+nsmsgthread
+getchildhdrforkey
+nsmsgkey
+desiredkey
+nsimsgdbhdr
+result
+print
+resultindex
+pruint
+numchildren
+pruint
+childindex
+nsresult
+rv
+nsok
+result
+nserrornullpointer
+getnumchildren
+numchildren
+print
+numchildren
+numchildren
+childindex
+childindex
+numchildren
+childindex
+rv
+getchildhdrat
+childindex
+result
+nssucceeded
+rv
+result
+nsmsgkey
+msgkey
+result
+getmessagekey
+msgkey
+msgkey
+desiredkey
+nsrelease
+result
+resultindex
+resultindex
+childindex
+rv
+nsimethodimp
+nsmsgthread
+getfirstunreadchild
+nsimsgdbhdr
+result
+nsensurearg
+result
+pruint
+numchildren
+nsresult
+rv
+nsok
+getnumchildren
+numchildren
+print
+numchildren
+numchildren
+pruint
+childindex
+childindex
+numchildren
+childindex
+nscomptr
+nsimsgdbhdr
+child
+rv
+getchildhdrat
+childindex
+getteraddrefs
+child
+nssucceeded
+rv
+child
+nsmsgkey
+msgkey
+child
+getmessagekey
+msgkey
+prbool
+isread
+rv
+mmdbdb
+isread
+msgkey
+isread
+nssucceeded
+rv
+isread
+result
+child
+nsaddref
+result
+rv
\ No newline at end of file
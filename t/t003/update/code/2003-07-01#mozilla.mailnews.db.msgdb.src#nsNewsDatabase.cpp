@@ -0,0 +1,678 @@
+msgcore
+nsnewsdatabase
+nsnewssummaryspec
+nsmsgkeyset
+nscomptr
+prlog
+nsifilespec
+defined
+debugsspitzer
+defined
+debugseth
+define
+debugnewsdatabase
+endif
+nsnewsdatabase
+nsnewsdatabase
+mreadset
+nsnull
+nsnewsdatabase
+nsnewsdatabase
+nsimpladdrefinherited
+nsnewsdatabase
+nsmsgdatabase
+nsimplreleaseinherited
+nsnewsdatabase
+nsmsgdatabase
+nsimethodimp
+nsnewsdatabase
+queryinterface
+refnsiid
+aiid
+ainstanceptr
+ainstanceptr
+nserrornullpointer
+ainstanceptr
+nsnull
+aiid
+equals
+nsgetiid
+nsinewsdatabase
+ainstanceptr
+nsstaticcast
+nsinewsdatabase
+ainstanceptr
+addref
+nsok
+nsmsgdatabase
+queryinterface
+aiid
+ainstanceptr
+nsimethodimp
+nsnewsdatabase
+open
+nsifilespec
+anewsgroupname
+prbool
+create
+prbool
+upgrading
+nsimsgdatabase
+pmessagedb
+nsnewsdatabase
+newsdb
+anewsgroupname
+nserrornullpointer
+nsfilespec
+newsgroupname
+anewsgroupname
+getfilespec
+newsgroupname
+nsnewssummaryspec
+summaryspec
+newsgroupname
+nsresult
+err
+nsok
+prbool
+newfile
+prfalse
+ifdef
+debugnewsdatabase
+printf
+nsnewsdatabase
+open
+newsgroupname
+create
+true
+false
+pmessagedb
+upgrading
+true
+false
+summaryspec
+endif
+nsfilespec
+dbpath
+summaryspec
+pmessagedb
+nsnull
+newsdb
+nsnewsdatabase
+findincache
+dbpath
+newsdb
+pmessagedb
+newsdb
+nsok
+newsdb
+nsnewsdatabase
+newsdb
+mfolder
+mfolder
+newsdb
+ifdef
+debugnewsdatabase
+printf
+nserroroutofmemory
+endif
+nserroroutofmemory
+newsdb
+addref
+nsidbfolderinfo
+folderinfo
+nsnull
+err
+newsdb
+openmdb
+summaryspec
+create
+err
+nsok
+newsdb
+getdbfolderinfo
+folderinfo
+folderinfo
+nsnull
+err
+nsmsgerrorfoldersummaryoutofdate
+pruint
+version
+folderinfo
+getversion
+version
+newsdb
+getcurversion
+version
+err
+nsmsgerrorfoldersummaryoutofdate
+nsrelease
+folderinfo
+err
+nsok
+nsifrelease
+newsdb
+mdbfolderinfo
+newsdb
+forceclosed
+err
+nsmsgerrorfoldersummaryoutofdate
+summaryspec
+delete
+prfalse
+newsdb
+nsnull
+err
+nsok
+newfile
+newfile
+upgrading
+err
+nsmsgerrorfoldersummarymissing
+err
+nsok
+pmessagedb
+nsnull
+newsdb
+newsdb
+forceclosed
+newsdb
+summaryspec
+delete
+prfalse
+newsdb
+nsnull
+err
+nsok
+err
+nsmsgerrorfoldersummarymissing
+pmessagedb
+newsdb
+newsdb
+getdbcache
+appendelement
+newsdb
+err
+nsresult
+nsnewsdatabase
+close
+prbool
+forcecommit
+nsmsgdatabase
+close
+forcecommit
+nsresult
+nsnewsdatabase
+forceclosed
+nsmsgdatabase
+forceclosed
+nsresult
+nsnewsdatabase
+commit
+nsmsgdbcommit
+committype
+mdbfolderinfo
+mreadset
+nsxpidlcstring
+readset
+mreadset
+output
+gettercopies
+readset
+mdbfolderinfo
+setcharptrproperty
+readset
+readset
+get
+nsmsgdatabase
+commit
+committype
+pruint
+nsnewsdatabase
+getcurversion
+kmsgdbversion
+nsimethodimp
+nsnewsdatabase
+isread
+nsmsgkey
+key
+prbool
+pread
+nsassertion
+pread
+out
+param
+in
+isread
+pread
+nserrornullpointer
+nsassertion
+mreadset
+set
+is
+mreadset
+nserrorfailure
+pread
+mreadset
+ismember
+key
+nsok
+nsresult
+nsnewsdatabase
+isheaderread
+nsimsgdbhdr
+msghdr
+prbool
+pread
+nsresult
+rv
+nsmsgkey
+messagekey
+msghdr
+pread
+nserrornullpointer
+rv
+msghdr
+getmessagekey
+messagekey
+nsfailed
+rv
+rv
+rv
+isread
+messagekey
+pread
+rv
+nsimethodimp
+nsnewsdatabase
+gethighwaterarticlenum
+nsmsgkey
+key
+prassert
+mdbfolderinfo
+mdbfolderinfo
+nserrorfailure
+mdbfolderinfo
+gethighwater
+key
+nsimethodimp
+nsnewsdatabase
+getlowwaterarticlenum
+nsmsgkey
+key
+nsresult
+rv
+nsmsghdr
+pheader
+nscomptr
+nsisimpleenumerator
+hdrs
+rv
+enumeratemessages
+getteraddrefs
+hdrs
+nsfailed
+rv
+rv
+rv
+hdrs
+getnext
+nsisupports
+pheader
+nsassertion
+nssucceeded
+rv
+nsmsgdbenumerator
+broken
+nsfailed
+rv
+rv
+pheader
+getmessagekey
+key
+nsresult
+nsnewsdatabase
+expireupto
+nsmsgkey
+expirekey
+nserrornotimplemented
+nsresult
+nsnewsdatabase
+expirerange
+nsmsgkey
+startrange
+nsmsgkey
+endrange
+nserrornotimplemented
+nsnewsdatabase
+clearfilterlist
+nsnewsdatabase
+openfilterlist
+prbool
+nsnewsdatabase
+threadbysubjectwithoutre
+prtrue
+nsimethodimp
+nsnewsdatabase
+getreadset
+nsmsgkeyset
+pset
+pset
+nserrornullpointer
+pset
+mreadset
+nsok
+nsimethodimp
+nsnewsdatabase
+setreadset
+nsmsgkeyset
+pset
+mreadset
+pset
+mreadset
+nsxpidlcstring
+dbreadset
+mdbfolderinfo
+mdbfolderinfo
+getcharptrproperty
+readset
+gettercopies
+dbreadset
+nsxpidlcstring
+newsrcreadset
+mreadset
+output
+gettercopies
+newsrcreadset
+dbreadset
+equals
+newsrcreadset
+syncwithreadset
+nsok
+prbool
+nsnewsdatabase
+sethdrreadflag
+nsimsgdbhdr
+msghdr
+prbool
+bread
+nsresult
+rv
+prbool
+isread
+rv
+isheaderread
+msghdr
+isread
+isread
+bread
+nsmsgdatabase
+sethdrreadflag
+msghdr
+bread
+prfalse
+nsmsgkey
+messagekey
+nsmsgdatabase
+sethdrreadflag
+msghdr
+bread
+rv
+msghdr
+getmessagekey
+messagekey
+nsfailed
+rv
+prfalse
+nsassertion
+mreadset
+mreadset
+is
+mreadset
+prfalse
+bread
+ifdef
+debugnewsdatabase
+printf
+remove
+from
+the
+set
+messagekey
+endif
+rv
+mreadset
+remove
+messagekey
+nsfailed
+rv
+prfalse
+rv
+notifyreadchanged
+nsnull
+nsfailed
+rv
+prfalse
+ifdef
+debugnewsdatabase
+printf
+add
+to
+the
+set
+messagekey
+endif
+rv
+mreadset
+add
+messagekey
+nsfailed
+rv
+prfalse
+rv
+notifyreadchanged
+nsnull
+nsfailed
+rv
+prfalse
+prtrue
+nsimethodimp
+nsnewsdatabase
+markallread
+nsmsgkeyarray
+thosemarked
+nsmsgkey
+lowwater
+nsmsgkeynone
+highwater
+nsxpidlcstring
+knownarts
+mdbfolderinfo
+mdbfolderinfo
+getknownartsset
+gettercopies
+knownarts
+nsmsgkeyset
+knownkeys
+nsmsgkeyset
+create
+knownarts
+knownkeys
+lowwater
+knownkeys
+getfirstmember
+knownkeys
+lowwater
+nsmsgkeynone
+getlowwaterarticlenum
+lowwater
+gethighwaterarticlenum
+highwater
+lowwater
+mreadset
+addrange
+lowwater
+nsresult
+err
+nsmsgdatabase
+markallread
+thosemarked
+nssucceeded
+err
+highwater
+mreadset
+addrange
+highwater
+err
+nsresult
+nsnewsdatabase
+syncwithreadset
+nscomptr
+nsisimpleenumerator
+hdrs
+nsresult
+rv
+enumeratemessages
+getteraddrefs
+hdrs
+nsensuresuccess
+rv
+rv
+prbool
+hasmore
+prfalse
+readinnewsrc
+isreadindb
+changed
+prfalse
+nscomptr
+nsimsgdbhdr
+header
+print
+nummessages
+numnewmessages
+nsmsgkey
+messagekey
+nscomptr
+nsimsgthread
+threadhdr
+nssucceeded
+rv
+hdrs
+hasmoreelements
+hasmore
+hasmore
+prtrue
+rv
+hdrs
+getnext
+getteraddrefs
+header
+nsensuresuccess
+rv
+rv
+rv
+nsmsgdatabase
+isheaderread
+header
+isreadindb
+nsensuresuccess
+rv
+rv
+header
+getmessagekey
+messagekey
+isread
+messagekey
+readinnewsrc
+nummessages
+readinnewsrc
+numnewmessages
+readinnewsrc
+isreadindb
+markhdrread
+header
+readinnewsrc
+nsnull
+changed
+prtrue
+print
+oldmessages
+oldnewmessages
+rv
+mdbfolderinfo
+getnummessages
+oldmessages
+nssucceeded
+rv
+oldmessages
+nummessages
+changed
+prtrue
+mdbfolderinfo
+changenummessages
+nummessages
+oldmessages
+rv
+mdbfolderinfo
+getnumnewmessages
+oldnewmessages
+nssucceeded
+rv
+oldnewmessages
+numnewmessages
+changed
+prtrue
+mdbfolderinfo
+changenumnewmessages
+numnewmessages
+oldnewmessages
+changed
+commit
+nsmsgdbcommittype
+klargecommit
+rv
+nsresult
+nsnewsdatabase
+adjustexpungedbytesondelete
+nsimsgdbhdr
+msghdr
+pruint
+msgflags
+msghdr
+getflags
+msgflags
+msgflags
+msgflagoffline
+mdbfolderinfo
+pruint
+size
+msghdr
+getofflinemessagesize
+size
+mdbfolderinfo
+changeexpungedbytes
+size
+nsok
+nsimethodimp
+nsnewsdatabase
+getdefaultviewflags
+nsmsgviewflagstypevalue
+adefaultviewflags
+nsensureargpointer
+adefaultviewflags
+adefaultviewflags
+nsmsgviewflagstype
+kthreadeddisplay
+nsok
+nsimethodimp
+nsnewsdatabase
+getdefaultsorttype
+nsmsgviewsorttypevalue
+adefaultsorttype
+nsensureargpointer
+adefaultsorttype
+adefaultsorttype
+nsmsgviewsorttype
+bythread
+nsok
\ No newline at end of file
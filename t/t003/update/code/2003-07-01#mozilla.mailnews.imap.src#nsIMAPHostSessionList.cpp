@@ -0,0 +1,1362 @@
+msgcore
+nsimaphostsessionlist
+nsimapbodyshell
+nsimapnamespace
+nsisupportsutils
+nsiimapincomingserver
+nscomptr
+nsimsgincomingserver
+nsiobserverservice
+nsimaphostinfo
+nsimaphostinfo
+serverkey
+nsiimapincomingserver
+server
+fserverkey
+nscrt
+strdup
+serverkey
+nsassertion
+server
+fatal
+imap
+incoming
+server
+fonlinedir
+server
+getserverdirectory
+fonlinedir
+fnexthost
+fcachedpassword
+fcapabilityflags
+kcapabilityundefined
+fhierarchydelimiters
+ifdef
+debugbienvenu
+fhaveweeverdiscoveredfolders
+prtrue
+fhaveweeverdiscoveredfolders
+prfalse
+endif
+fcanonicalonlinesubdir
+fnamespacelist
+nsimapnamespacelist
+creatensimapnamespacelist
+fusingsubscription
+prtrue
+server
+getusingsubscription
+fusingsubscription
+fonlinetrashfolderexists
+prfalse
+fshouldalwayslistinbox
+prtrue
+fshellcache
+nsimapbodyshellcache
+create
+fpasswordverifiedonline
+prfalse
+fdeleteismovetotrash
+prtrue
+fshowdeletedmessages
+prfalse
+fgotnamespaces
+prfalse
+fhaveadminurl
+prfalse
+fnamespacesoverridable
+prtrue
+server
+getoverridenamespaces
+fnamespacesoverridable
+ftempnamespacelist
+nsimapnamespacelist
+creatensimapnamespacelist
+nsimaphostinfo
+nsimaphostinfo
+prfreeif
+fserverkey
+prfreeif
+fcachedpassword
+prfreeif
+fhierarchydelimiters
+prfreeif
+fonlinedir
+fnamespacelist
+ftempnamespacelist
+fshellcache
+nsimplthreadsafeisupports
+nsimaphostsessionlist
+nsiimaphostsessionlist
+nsiobserver
+nsisupportsweakreference
+nsimaphostsessionlist
+nsimaphostsessionlist
+gcachedhostinfomonitor
+prnewmonitor
+fhostinfolist
+nsnull
+nsimaphostsessionlist
+nsimaphostsessionlist
+resetall
+prdestroymonitor
+gcachedhostinfomonitor
+nsresult
+nsimaphostsessionlist
+init
+nsresult
+rv
+nscomptr
+nsiobserverservice
+observerservice
+dogetservice
+observer
+service
+rv
+nssucceeded
+rv
+observerservice
+addobserver
+profile
+before
+change
+prtrue
+observerservice
+addobserver
+nsxpcomshutdownobserverid
+prtrue
+rv
+nsimethodimp
+nsimaphostsessionlist
+observe
+nsisupports
+asubject
+atopic
+prunichar
+somedata
+nsresult
+rv
+strcmp
+atopic
+profile
+before
+change
+resetall
+strcmp
+atopic
+nsxpcomshutdownobserverid
+nscomptr
+nsiobserverservice
+observerservice
+dogetservice
+observer
+service
+rv
+nssucceeded
+rv
+observerservice
+removeobserver
+nsxpcomshutdownobserverid
+observerservice
+removeobserver
+profile
+before
+change
+nsok
+nsimaphostinfo
+nsimaphostsessionlist
+findhost
+serverkey
+nsimaphostinfo
+host
+host
+fhostinfolist
+host
+host
+host
+fnexthost
+plstrcasecmp
+serverkey
+host
+fserverkey
+host
+host
+nsimethodimp
+nsimaphostsessionlist
+resetall
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+nexthost
+nsimaphostinfo
+host
+fhostinfolist
+host
+host
+nexthost
+nexthost
+host
+fnexthost
+host
+fhostinfolist
+prexitmonitor
+gcachedhostinfomonitor
+nsok
+nsimethodimp
+nsimaphostsessionlist
+addhosttolist
+serverkey
+nsiimapincomingserver
+server
+nsimaphostinfo
+newhost
+prentermonitor
+gcachedhostinfomonitor
+findhost
+serverkey
+newhost
+nsimaphostinfo
+serverkey
+server
+newhost
+newhost
+fnexthost
+fhostinfolist
+fhostinfolist
+newhost
+prexitmonitor
+gcachedhostinfomonitor
+newhost
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+getcapabilityforhost
+serverkey
+pruint
+result
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+result
+host
+host
+fcapabilityflags
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+setcapabilityforhost
+serverkey
+pruint
+capability
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+host
+fcapabilityflags
+capability
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+getpasswordforhost
+serverkey
+nsstring
+result
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+result
+assignwithconversion
+host
+fcachedpassword
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+setpasswordforhost
+serverkey
+password
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+prfreeif
+host
+fcachedpassword
+password
+host
+fcachedpassword
+nscrt
+strdup
+password
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+setpasswordverifiedonline
+serverkey
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+host
+fpasswordverifiedonline
+prtrue
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+getpasswordverifiedonline
+serverkey
+prbool
+result
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+result
+host
+fpasswordverifiedonline
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+getonlinedirforhost
+serverkey
+nsstring
+result
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+result
+assignwithconversion
+host
+fonlinedir
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+setonlinedirforhost
+serverkey
+onlinedir
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+prfreeif
+host
+fonlinedir
+onlinedir
+host
+fonlinedir
+nscrt
+strdup
+onlinedir
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+getdeleteismovetotrashforhost
+serverkey
+prbool
+result
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+result
+host
+fdeleteismovetotrash
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+getshowdeletedmessagesforhost
+serverkey
+prbool
+result
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+result
+host
+fshowdeletedmessages
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+setdeleteismovetotrashforhost
+serverkey
+prbool
+ismovetotrash
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+host
+fdeleteismovetotrash
+ismovetotrash
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+setshowdeletedmessagesforhost
+serverkey
+prbool
+showdeletedmessages
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+host
+fshowdeletedmessages
+showdeletedmessages
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+getgotnamespacesforhost
+serverkey
+prbool
+result
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+result
+host
+fgotnamespaces
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+setgotnamespacesforhost
+serverkey
+prbool
+gotnamespaces
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+host
+fgotnamespaces
+gotnamespaces
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+gethierarchydelimiterstringforhost
+serverkey
+nsstring
+result
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+result
+assignwithconversion
+host
+fhierarchydelimiters
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+addhierarchydelimiter
+serverkey
+delimiter
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+host
+fhierarchydelimiters
+host
+fhierarchydelimiters
+prsmprintf
+delimiter
+plstrchr
+host
+fhierarchydelimiters
+delimiter
+tmpdelimiters
+prsmprintf
+host
+fhierarchydelimiters
+delimiter
+prfreeif
+host
+fhierarchydelimiters
+host
+fhierarchydelimiters
+tmpdelimiters
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+gethostisusingsubscription
+serverkey
+prbool
+result
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+result
+host
+fusingsubscription
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+sethostisusingsubscription
+serverkey
+prbool
+usingsubscription
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+host
+fusingsubscription
+usingsubscription
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+gethosthasadminurl
+serverkey
+prbool
+result
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+result
+host
+fhaveadminurl
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+sethosthasadminurl
+serverkey
+prbool
+haveadminurl
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+host
+fhaveadminurl
+haveadminurl
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+gethaveweeverdiscoveredfoldersforhost
+serverkey
+prbool
+result
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+result
+host
+fhaveweeverdiscoveredfolders
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+sethaveweeverdiscoveredfoldersforhost
+serverkey
+prbool
+discovered
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+host
+fhaveweeverdiscoveredfolders
+discovered
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+setonlinetrashfolderexistsforhost
+serverkey
+prbool
+exists
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+host
+fonlinetrashfolderexists
+exists
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+getonlinetrashfolderexistsforhost
+serverkey
+prbool
+result
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+result
+host
+fonlinetrashfolderexists
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+addnewnamespaceforhost
+serverkey
+nsimapnamespace
+ns
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+host
+fnamespacelist
+addnewnamespace
+ns
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+setnamespacefromprefforhost
+serverkey
+namespacepref
+eimapnamespacetype
+nstype
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+namespacepref
+numnamespaces
+host
+fnamespacelist
+unserializenamespaces
+namespacepref
+nsnull
+prefixes
+prcalloc
+numnamespaces
+prefixes
+len
+host
+fnamespacelist
+unserializenamespaces
+namespacepref
+prefixes
+numnamespaces
+len
+thisns
+prefixes
+delimiter
+plstrlen
+thisns
+delimiter
+thisns
+plstrlen
+thisns
+nsimapnamespace
+ns
+nsimapnamespace
+nstype
+thisns
+delimiter
+prtrue
+ns
+host
+fnamespacelist
+addnewnamespace
+ns
+prfreeif
+thisns
+prfree
+prefixes
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+getnamespaceformailboxforhost
+serverkey
+mailboxname
+nsimapnamespace
+result
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+result
+host
+fnamespacelist
+getnamespaceformailbox
+mailboxname
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+clearprefsnamespacesforhost
+serverkey
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+host
+fnamespacelist
+clearnamespaces
+prtrue
+prfalse
+prtrue
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+clearserveradvertisednamespacesforhost
+serverkey
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+host
+fnamespacelist
+clearnamespaces
+prfalse
+prtrue
+prtrue
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+getdefaultnamespaceoftypeforhost
+serverkey
+eimapnamespacetype
+type
+nsimapnamespace
+result
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+result
+host
+fnamespacelist
+getdefaultnamespaceoftype
+type
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+getnamespacesoverridableforhost
+serverkey
+prbool
+result
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+result
+host
+fnamespacesoverridable
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+setnamespacesoverridableforhost
+serverkey
+prbool
+overridable
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+host
+fnamespacesoverridable
+overridable
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+getnumberofnamespacesforhost
+serverkey
+pruint
+result
+print
+intresult
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+intresult
+host
+fnamespacelist
+getnumberofnamespaces
+prexitmonitor
+gcachedhostinfomonitor
+nsassertion
+intresult
+negative
+number
+of
+namespaces
+result
+pruint
+intresult
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+getnamespacenumberforhost
+serverkey
+print
+nsimapnamespace
+result
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+result
+host
+fnamespacelist
+getnamespacenumber
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsresult
+nsimaphostsessionlist
+setnamespacesprefforhost
+nsiimapincomingserver
+ahost
+eimapnamespacetype
+type
+pref
+type
+kpersonalnamespace
+ahost
+setpersonalnamespace
+pref
+type
+kpublicnamespace
+ahost
+setpublicnamespace
+pref
+type
+kotherusersnamespace
+ahost
+setotherusersnamespace
+pref
+nsassertion
+prfalse
+bogus
+type
+nsok
+nsimethodimp
+nsimaphostsessionlist
+commitnamespacesforhost
+nsiimapincomingserver
+ahost
+serverkey
+nsnull
+ahost
+nserrornullpointer
+nscomptr
+nsimsgincomingserver
+incomingserver
+doqueryinterface
+ahost
+incomingserver
+nserrornullpointer
+nsresult
+rv
+incomingserver
+getkey
+serverkey
+nsfailed
+rv
+rv
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+host
+fgotnamespaces
+prtrue
+eimapnamespacetype
+type
+kpersonalnamespace
+type
+kpersonalnamespace
+type
+kpublicnamespace
+type
+kotherusersnamespace
+type
+kpersonalnamespace
+int
+numinns
+host
+fnamespacelist
+getnumberofnamespaces
+type
+numinns
+setnamespacesprefforhost
+ahost
+type
+numinns
+pref
+prsmprintf
+count
+count
+numinns
+count
+nsimapnamespace
+ns
+host
+fnamespacelist
+getnamespacenumber
+count
+type
+ns
+count
+temppref
+prsmprintf
+pref
+prfreeif
+pref
+pref
+temppref
+temppref
+prsmprintf
+pref
+ns
+getprefix
+prfreeif
+pref
+pref
+temppref
+pref
+setnamespacesprefforhost
+ahost
+type
+pref
+prfree
+pref
+host
+ftempnamespacelist
+clearnamespaces
+prtrue
+prtrue
+prfalse
+ahost
+resetnamespacereferences
+prfreeif
+serverkey
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+flushuncommittednamespacesforhost
+serverkey
+prbool
+result
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+host
+ftempnamespacelist
+clearnamespaces
+prtrue
+prtrue
+prtrue
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+getonlineinboxpathforhost
+serverkey
+nsstring
+result
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+nsimapnamespace
+ns
+ns
+host
+fnamespacelist
+getdefaultnamespaceoftype
+kpersonalnamespace
+ns
+result
+assignwithconversion
+ns
+getprefix
+result
+append
+nsliteralstring
+inbox
+result
+setlength
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+getshouldalwayslistinboxforhost
+prbool
+result
+result
+prtrue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+setshouldalwayslistinboxforhost
+serverkey
+prbool
+shouldlist
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+host
+fshouldalwayslistinbox
+shouldlist
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+setnamespacehierarchydelimiterfrommailboxforhost
+serverkey
+boxname
+delimiter
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+nsimapnamespace
+ns
+host
+fnamespacelist
+getnamespaceformailbox
+boxname
+ns
+ns
+getisdelimiterfilledin
+ns
+setdelimiter
+delimiter
+prtrue
+prexitmonitor
+gcachedhostinfomonitor
+host
+nsok
+nserrorillegalvalue
+nsimethodimp
+nsimaphostsessionlist
+addshelltocacheforhost
+serverkey
+nsimapbodyshell
+shell
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+host
+fshellcache
+prbool
+rv
+host
+fshellcache
+addshelltocache
+shell
+prexitmonitor
+gcachedhostinfomonitor
+rv
+prexitmonitor
+gcachedhostinfomonitor
+prfalse
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
+nsimethodimp
+nsimaphostsessionlist
+findshellincacheforhost
+serverkey
+mailboxname
+uid
+imapcontentmodifiedtype
+modtype
+nsimapbodyshell
+shell
+nscstring
+uidstring
+uid
+prentermonitor
+gcachedhostinfomonitor
+nsimaphostinfo
+host
+findhost
+serverkey
+host
+host
+fshellcache
+shell
+host
+fshellcache
+findshellforuid
+uidstring
+mailboxname
+modtype
+prexitmonitor
+gcachedhostinfomonitor
+host
+nserrorillegalvalue
+nsok
\ No newline at end of file
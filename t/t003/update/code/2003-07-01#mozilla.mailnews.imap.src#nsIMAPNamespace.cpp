@@ -0,0 +1,845 @@
+msgcore
+nsimapcore
+nsimapnamespace
+nsimapprotocol
+nsimapgenericparser
+nsmsgimapcid
+nsimapurl
+nsstring
+nsdefinecid
+kcimaphostsessionlistcid
+nsiimaphostsessionlistcid
+nsimapnamespace
+nsimapnamespace
+eimapnamespacetype
+type
+prefix
+delimiter
+prbool
+fromprefs
+mnamespacetype
+type
+mprefix
+plstrdup
+prefix
+mfromprefs
+fromprefs
+mdelimiter
+delimiter
+mdelimiterfilledin
+mfromprefs
+nsimapnamespace
+nsimapnamespace
+prfreeif
+mprefix
+nsimapnamespace
+setdelimiter
+delimiter
+prbool
+delimiterfilledin
+mdelimiter
+delimiter
+mdelimiterfilledin
+delimiterfilledin
+nsimapnamespace
+mailboxmatchesnamespace
+boxname
+boxname
+mprefix
+mprefix
+plstrstr
+boxname
+mprefix
+boxname
+plstrlen
+mprefix
+plstrstr
+mprefix
+boxname
+mprefix
+plstrlen
+boxname
+nsimapnamespacelist
+nsimapnamespacelist
+creatensimapnamespacelist
+nsimapnamespacelist
+rv
+nsimapnamespacelist
+rv
+nsimapnamespacelist
+nsimapnamespacelist
+nsimapnamespacelist
+getnumberofnamespaces
+mnamespacelist
+count
+nsresult
+nsimapnamespacelist
+initfromstring
+namespacestring
+eimapnamespacetype
+nstype
+nsresult
+rv
+nsok
+namespacestring
+numnamespaces
+unserializenamespaces
+namespacestring
+nsnull
+prefixes
+prcalloc
+numnamespaces
+prefixes
+len
+unserializenamespaces
+namespacestring
+prefixes
+numnamespaces
+len
+thisns
+prefixes
+delimiter
+plstrlen
+thisns
+delimiter
+thisns
+plstrlen
+thisns
+nsimapnamespace
+ns
+nsimapnamespace
+nstype
+thisns
+delimiter
+prtrue
+ns
+addnewnamespace
+ns
+prfreeif
+thisns
+prfree
+prefixes
+rv
+nsresult
+nsimapnamespacelist
+outputtostring
+nscstring
+nsresult
+rv
+nsok
+rv
+nsimapnamespacelist
+getnumberofnamespaces
+eimapnamespacetype
+type
+nodeindex
+count
+nodeindex
+mnamespacelist
+count
+nodeindex
+nodeindex
+nsimapnamespace
+nspace
+nsimapnamespace
+mnamespacelist
+elementat
+nodeindex
+nspace
+gettype
+type
+count
+count
+nsimapnamespacelist
+addnewnamespace
+nsimapnamespace
+ns
+ns
+getisnamespacefromprefs
+nodeindex
+nodeindex
+mnamespacelist
+count
+nodeindex
+nodeindex
+nsimapnamespace
+nspace
+nsimapnamespace
+mnamespacelist
+elementat
+nodeindex
+nspace
+nspace
+getisnamespacefromprefs
+plstrcmp
+ns
+getprefix
+nspace
+getprefix
+ns
+gettype
+nspace
+gettype
+ns
+getdelimiter
+nspace
+getdelimiter
+mnamespacelist
+removeelementat
+nodeindex
+nspace
+mnamespacelist
+appendelement
+ns
+nsimapnamespace
+nsimapnamespacelist
+getdefaultnamespaceoftype
+eimapnamespacetype
+type
+nsimapnamespace
+rv
+firstoftype
+nodeindex
+count
+mnamespacelist
+count
+nodeindex
+nodeindex
+count
+rv
+nodeindex
+nsimapnamespace
+ns
+nsimapnamespace
+mnamespacelist
+elementat
+nodeindex
+ns
+gettype
+type
+firstoftype
+firstoftype
+ns
+ns
+getprefix
+rv
+ns
+rv
+rv
+firstoftype
+rv
+nsimapnamespacelist
+nsimapnamespacelist
+clearnamespaces
+prtrue
+prtrue
+prtrue
+nsimapnamespacelist
+clearnamespaces
+prbool
+deletefromprefsnamespaces
+prbool
+deleteserveradvertisednamespaces
+prbool
+reallydelete
+nodeindex
+nodeindex
+mnamespacelist
+count
+nodeindex
+nodeindex
+nsimapnamespace
+ns
+nsimapnamespace
+mnamespacelist
+elementat
+nodeindex
+ns
+getisnamespacefromprefs
+deletefromprefsnamespaces
+mnamespacelist
+removeelementat
+nodeindex
+reallydelete
+ns
+deleteserveradvertisednamespaces
+mnamespacelist
+removeelementat
+nodeindex
+reallydelete
+ns
+nsimapnamespace
+nsimapnamespacelist
+getnamespacenumber
+nodeindex
+nsassertion
+nodeindex
+nodeindex
+getnumberofnamespaces
+invalid
+imap
+node
+index
+nodeindex
+nodeindex
+nsimapnamespace
+mnamespacelist
+safeelementat
+nodeindex
+nsimapnamespace
+nsimapnamespacelist
+getnamespacenumber
+nodeindex
+eimapnamespacetype
+type
+nodecount
+count
+nodecount
+mnamespacelist
+count
+nodecount
+nodecount
+nsimapnamespace
+nspace
+nsimapnamespace
+mnamespacelist
+elementat
+nodecount
+nspace
+gettype
+type
+count
+count
+nodeindex
+nspace
+nsnull
+nsimapnamespace
+nsimapnamespacelist
+getnamespaceformailbox
+boxname
+lengthmatched
+currentmatchedlength
+nsimapnamespace
+rv
+nsnull
+nodeindex
+plstrcasecmp
+boxname
+inbox
+getdefaultnamespaceoftype
+kpersonalnamespace
+nodeindex
+mnamespacelist
+count
+nodeindex
+nodeindex
+nsimapnamespace
+nspace
+nsimapnamespace
+mnamespacelist
+elementat
+nodeindex
+currentmatchedlength
+nspace
+mailboxmatchesnamespace
+boxname
+currentmatchedlength
+lengthmatched
+rv
+nspace
+lengthmatched
+currentmatchedlength
+rv
+define
+serializerseparators
+nsresult
+nsimapnamespacelist
+serializenamespaces
+prefixes
+len
+nscstring
+serializednamespaces
+nsresult
+rv
+nsok
+len
+rv
+len
+serializednamespaces
+prefixes
+rv
+len
+temp
+nsnull
+serializednamespaces
+temp
+prsmprintf
+prefixes
+serializednamespaces
+serializednamespaces
+prefixes
+serializednamespaces
+rv
+nsimapnamespacelist
+unserializenamespaces
+str
+prefixes
+len
+str
+prefixes
+str
+count
+ourstr
+plstrdup
+str
+origourstr
+ourstr
+ourstr
+token
+nscrt
+strtok
+ourstr
+serializerseparators
+ourstr
+token
+nsnull
+token
+nscrt
+strtok
+ourstr
+serializerseparators
+ourstr
+count
+prfree
+origourstr
+count
+str
+len
+prefixes
+plstrdup
+str
+count
+ourstr
+plstrdup
+str
+origourstr
+ourstr
+ourstr
+token
+nscrt
+strtok
+ourstr
+serializerseparators
+ourstr
+count
+len
+token
+nsnull
+current
+plstrdup
+token
+where
+current
+where
+where
+where
+plstrlen
+where
+where
+plstrlen
+where
+prefixes
+count
+plstrdup
+where
+prfreeif
+current
+token
+nscrt
+strtok
+ourstr
+serializerseparators
+ourstr
+count
+prfree
+origourstr
+count
+nsimapnamespacelist
+allocatecanonicalfoldername
+onlinefoldername
+delimiter
+canonicalpath
+nsnull
+delimiter
+canonicalpath
+nsimapurl
+replacecharsincopiedstring
+onlinefoldername
+delimiter
+canonicalpath
+plstrdup
+onlinefoldername
+canonicalpath
+currentescapesequence
+strstr
+canonicalpath
+currentescapesequence
+strcpy
+currentescapesequence
+currentescapesequence
+currentescapesequence
+strstr
+currentescapesequence
+canonicalpath
+nsimapnamespacelist
+getfoldernamewithoutnamespace
+nsimapnamespace
+namespaceforfolder
+canonicalfoldername
+nsassertion
+canonicalfoldername
+folder
+name
+ifdef
+debug
+nsassertion
+namespaceforfolder
+plstrcasecmp
+canonicalfoldername
+inbox
+need
+inbox
+endif
+retfoldername
+nsnull
+plstrcasecmp
+canonicalfoldername
+inbox
+plstrdup
+canonicalfoldername
+convertedfoldername
+nsimapnamespacelist
+allocateserverfoldername
+canonicalfoldername
+namespaceforfolder
+getdelimiter
+convertedfoldername
+beginfolderpath
+nsnull
+strlen
+convertedfoldername
+strlen
+namespaceforfolder
+getprefix
+beginfolderpath
+convertedfoldername
+beginfolderpath
+convertedfoldername
+strlen
+namespaceforfolder
+getprefix
+nsassertion
+beginfolderpath
+empty
+folder
+path
+retfoldername
+nsimapnamespacelist
+allocatecanonicalfoldername
+beginfolderpath
+namespaceforfolder
+getdelimiter
+prfree
+convertedfoldername
+nsassertion
+retfoldername
+returning
+folder
+name
+retfoldername
+nsimapnamespace
+nsimapnamespacelist
+getnamespaceforfolder
+hostname
+canonicalfoldername
+delimiter
+hostname
+canonicalfoldername
+nsnull
+nsimapnamespace
+resultnamespace
+nsnull
+nsresult
+rv
+convertedfoldername
+nsimapnamespacelist
+allocateserverfoldername
+canonicalfoldername
+delimiter
+convertedfoldername
+nscomptr
+nsiimaphostsessionlist
+hostsessionlist
+dogetservice
+kcimaphostsessionlistcid
+rv
+nsfailed
+rv
+nsnull
+hostsessionlist
+getnamespaceformailboxforhost
+hostname
+convertedfoldername
+resultnamespace
+prfree
+convertedfoldername
+nsassertion
+prfalse
+couldn
+get
+converted
+folder
+name
+resultnamespace
+nsimapnamespacelist
+allocateserverfoldername
+canonicalfoldername
+delimiter
+delimiter
+nsimapurl
+replacecharsincopiedstring
+canonicalfoldername
+delimiter
+nscrt
+strdup
+canonicalfoldername
+nsimapnamespacelist
+getfolderownernamefrompath
+nsimapnamespace
+namespaceforfolder
+canonicalfoldername
+namespaceforfolder
+canonicalfoldername
+nsassertion
+prfalse
+canonical
+folder
+name
+nsnull
+rv
+nsnull
+convertedfoldername
+allocateserverfoldername
+canonicalfoldername
+namespaceforfolder
+getdelimiter
+convertedfoldername
+ifdef
+debug
+nsassertion
+strlen
+convertedfoldername
+strlen
+namespaceforfolder
+getprefix
+server
+folder
+name
+invalid
+endif
+strlen
+convertedfoldername
+strlen
+namespaceforfolder
+getprefix
+owner
+convertedfoldername
+strlen
+namespaceforfolder
+getprefix
+nsassertion
+owner
+couldn
+find
+folder
+owner
+nextdelimiter
+strchr
+owner
+namespaceforfolder
+getdelimiter
+nextdelimiter
+nextdelimiter
+rv
+plstrdup
+owner
+prfree
+convertedfoldername
+nsassertion
+prfalse
+couldn
+allocate
+server
+folder
+name
+rv
+prbool
+nsimapnamespacelist
+getfolderisnamespace
+hostname
+canonicalfoldername
+delimiter
+nsimapnamespace
+namespaceforfolder
+nsassertion
+namespaceforfolder
+prbool
+rv
+prfalse
+prefix
+namespaceforfolder
+getprefix
+nsassertion
+prefix
+has
+no
+prefix
+prefix
+prefix
+prfalse
+convertedfoldername
+allocateserverfoldername
+canonicalfoldername
+delimiter
+convertedfoldername
+prbool
+lastcharisdelimiter
+prefix
+strlen
+prefix
+delimiter
+lastcharisdelimiter
+rv
+strncmp
+convertedfoldername
+prefix
+strlen
+convertedfoldername
+strlen
+convertedfoldername
+strlen
+prefix
+rv
+strcmp
+convertedfoldername
+prefix
+prfreeif
+convertedfoldername
+nsassertion
+prfalse
+couldn
+allocate
+server
+folder
+name
+rv
+nsimapnamespacelist
+suggesthierarchyseparatorfornamespace
+nsimapnamespace
+namespaceforfolder
+delimiterfromfolder
+nsassertion
+namespaceforfolder
+need
+namespaceforfolder
+namespaceforfolder
+getisdelimiterfilledin
+namespaceforfolder
+setdelimiter
+delimiterfromfolder
+prfalse
+nsimapnamespacelist
+generatefullfoldernamewithdefaultnamespace
+hostname
+canonicalfoldername
+owner
+eimapnamespacetype
+nstype
+nsimapnamespace
+nsused
+nsresult
+rv
+nsok
+nscomptr
+nsiimaphostsessionlist
+hostsession
+dogetservice
+kcimaphostsessionlistcid
+rv
+nsensuresuccess
+rv
+nsnull
+nsimapnamespace
+ns
+fullfoldername
+nsnull
+rv
+hostsession
+getdefaultnamespaceoftypeforhost
+hostname
+nstype
+ns
+nsensuresuccess
+rv
+nsnull
+ns
+nsused
+nsused
+ns
+prefix
+ns
+getprefix
+convertedfoldername
+allocateserverfoldername
+canonicalfoldername
+ns
+getdelimiter
+convertedfoldername
+convertedreturnname
+nsnull
+owner
+convertedreturnname
+prsmprintf
+prefix
+owner
+ns
+getdelimiter
+convertedfoldername
+convertedreturnname
+prsmprintf
+prefix
+convertedfoldername
+convertedreturnname
+fullfoldername
+allocatecanonicalfoldername
+convertedreturnname
+ns
+getdelimiter
+prfree
+convertedreturnname
+prfree
+convertedfoldername
+nsassertion
+prfalse
+couldn
+allocate
+server
+folder
+name
+nsassertion
+prfalse
+couldn
+find
+given
+host
+fullfoldername
\ No newline at end of file
@@ -0,0 +1,6383 @@
+msgcore
+nsmsgimapcid
+netcore
+nsstring
+nsreadableutils
+nsisupportsobsolete
+nsimaphostsessionlist
+nsimapincomingserver
+nsimsgaccountmanager
+nsimsgidentity
+nsiimapurl
+nsiurllistener
+nsieventqueue
+nsiimapprotocol
+nsisupportsarray
+nsvoidarray
+nscomptr
+nsimapstringbundle
+nsiprefbranch
+nsiprefservice
+nsmsgfolderflags
+prmem
+plstr
+nsxpidlstring
+nsimsgfolder
+nsimsgwindow
+nsimsgimapmailfolder
+nsimaputils
+nsirdfservice
+nsrdfcid
+nsenumeratorutils
+nsieventqueueservice
+nsimsgmailnewsurl
+nsiimapservice
+nsmsgin
+nsmsgutfutils
+nsautolock
+nsiimapmockchannel
+nsiprompt
+nsiwindowwatcher
+nsicacheentrydescriptor
+nsimapurl
+nsfilestream
+nsimsgprotocolinfo
+nsimsgmailsession
+nsimapnamespace
+nsitimer
+nsmsgutils
+define
+preftrashfoldername
+trashfoldername
+define
+defaulttrashfoldername
+trash
+nsdefinecid
+kcimaphostsessionlist
+nsiimaphostsessionlistcid
+nsdefinecid
+kimapprotocolcid
+nsimapprotocolcid
+nsdefinecid
+krdfservicecid
+nsrdfservicecid
+nsdefinecid
+keventqueueservicecid
+nseventqueueservicecid
+nsdefinecid
+kmsglogonredirectorservicecid
+nsmsglogonredirectorservicecid
+nsdefinecid
+kimapservicecid
+nsimapservicecid
+nsdefinecid
+ksubscribableservercid
+nssubscribableservercid
+nsdefinecid
+kcimaphostsessionlistcid
+nsiimaphostsessionlistcid
+nsimpladdrefinherited
+nsimapincomingserver
+nsmsgincomingserver
+nsimplreleaseinherited
+nsimapincomingserver
+nsmsgincomingserver
+nsinterfacemapbegin
+nsimapincomingserver
+nsinterfacemapentry
+nsiimapserversink
+nsinterfacemapentry
+nsiimapincomingserver
+nsinterfacemapentry
+nsimsglogonredirectionrequester
+nsinterfacemapentry
+nsisubscribableserver
+nsinterfacemapentry
+nsiurllistener
+nsinterfacemapendinheriting
+nsmsgincomingserver
+nsimapincomingserver
+nsimapincomingserver
+nsresult
+rv
+rv
+nsnewisupportsarray
+getteraddrefs
+mconnectioncache
+rv
+nsnewisupportsarray
+getteraddrefs
+murlqueue
+mcapability
+kcapabilityundefined
+mwaitingforconnectioninfo
+prfalse
+mredirectedlogonretries
+mdoingsubscribedialog
+prfalse
+mdoinglsub
+prfalse
+mcanhavefilters
+prtrue
+muserauthenticated
+prfalse
+mreadpfcname
+prfalse
+mreadredirectortype
+prfalse
+nsimapincomingserver
+nsimapincomingserver
+nsresult
+rv
+rv
+clearinner
+nsassertion
+nssucceeded
+rv
+clearinner
+failed
+closecachedconnections
+nsimethodimp
+nsimapincomingserver
+setkey
+akey
+nsmsgincomingserver
+setkey
+akey
+nsresult
+rv
+nscomptr
+nsiimaphostsessionlist
+hostsession
+dogetservice
+kcimaphostsessionlist
+rv
+nsfailed
+rv
+rv
+hostsession
+addhosttolist
+akey
+nsmsgimapdeletemodel
+deletemodel
+nsmsgimapdeletemodels
+movetotrash
+getdeletemodel
+deletemodel
+hostsession
+setdeleteismovetotrashforhost
+akey
+deletemodel
+nsmsgimapdeletemodels
+movetotrash
+hostsession
+setshowdeletedmessagesforhost
+akey
+deletemodel
+nsmsgimapdeletemodels
+imapdelete
+nsxpidlcstring
+onlinedir
+rv
+getserverdirectory
+gettercopies
+onlinedir
+nsfailed
+rv
+rv
+onlinedir
+hostsession
+setonlinedirforhost
+akey
+onlinedir
+nsxpidlcstring
+personalnamespace
+nsxpidlcstring
+publicnamespace
+nsxpidlcstring
+otherusersnamespace
+rv
+getpersonalnamespace
+gettercopies
+personalnamespace
+nsfailed
+rv
+rv
+rv
+getpublicnamespace
+gettercopies
+publicnamespace
+nsfailed
+rv
+rv
+rv
+getotherusersnamespace
+gettercopies
+otherusersnamespace
+nsfailed
+rv
+rv
+personalnamespace
+publicnamespace
+otherusersnamespace
+personalnamespace
+adopt
+nscrt
+strdup
+hostsession
+setnamespacefromprefforhost
+akey
+personalnamespace
+kpersonalnamespace
+publicnamespace
+plstrlen
+publicnamespace
+hostsession
+setnamespacefromprefforhost
+akey
+publicnamespace
+kpublicnamespace
+otherusersnamespace
+plstrlen
+otherusersnamespace
+hostsession
+setnamespacefromprefforhost
+akey
+otherusersnamespace
+kotherusersnamespace
+rv
+nsimethodimp
+nsimapincomingserver
+getconstructedprettyname
+prunichar
+retval
+nsxpidlcstring
+username
+nsxpidlcstring
+hostname
+nsresult
+rv
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgidentity
+identity
+rv
+accountmanager
+getfirstidentityforserver
+getteraddrefs
+identity
+nsensuresuccess
+rv
+rv
+nsautostring
+emailaddress
+nssucceeded
+rv
+identity
+nsxpidlcstring
+identityemailaddress
+identity
+getemail
+gettercopies
+identityemailaddress
+emailaddress
+assignwithconversion
+identityemailaddress
+rv
+getrealusername
+gettercopies
+username
+nsfailed
+rv
+rv
+rv
+getrealhostname
+gettercopies
+hostname
+nsfailed
+rv
+rv
+username
+hostname
+plstrcmp
+username
+emailaddress
+assignwithconversion
+username
+emailaddress
+append
+nsliteralstring
+emailaddress
+appendwithconversion
+hostname
+rv
+getformattedstringfromid
+emailaddress
+get
+imapdefaultaccountname
+retval
+rv
+nsimethodimp
+nsimapincomingserver
+getlocalstoretype
+type
+nsensureargpointer
+type
+type
+nscrt
+strdup
+imap
+nsok
+nsimethodimp
+nsimapincomingserver
+getserverdirectory
+serverdirectory
+getcharvalue
+serversubdirectory
+serverdirectory
+nsimethodimp
+nsimapincomingserver
+setserverdirectory
+serverdirectory
+nsxpidlcstring
+serverkey
+nsresult
+rv
+getkey
+gettercopies
+serverkey
+nssucceeded
+rv
+nscomptr
+nsiimaphostsessionlist
+hostsession
+dogetservice
+kcimaphostsessionlist
+rv
+nssucceeded
+rv
+hostsession
+setonlinedirforhost
+serverkey
+serverdirectory
+setcharvalue
+serversubdirectory
+serverdirectory
+nsimethodimp
+nsimapincomingserver
+getoverridenamespaces
+prbool
+bval
+getboolvalue
+overridenamespaces
+bval
+nsimethodimp
+nsimapincomingserver
+setoverridenamespaces
+prbool
+bval
+nsxpidlcstring
+serverkey
+getkey
+gettercopies
+serverkey
+serverkey
+nsresult
+rv
+nscomptr
+nsiimaphostsessionlist
+hostsession
+dogetservice
+kcimaphostsessionlist
+rv
+nssucceeded
+rv
+hostsession
+setnamespacesoverridableforhost
+serverkey
+bval
+setboolvalue
+overridenamespaces
+bval
+nsimethodimp
+nsimapincomingserver
+getusingsubscription
+prbool
+bval
+getboolvalue
+usingsubscription
+bval
+nsimethodimp
+nsimapincomingserver
+setusingsubscription
+prbool
+bval
+nsxpidlcstring
+serverkey
+getkey
+gettercopies
+serverkey
+serverkey
+nsresult
+rv
+nscomptr
+nsiimaphostsessionlist
+hostsession
+dogetservice
+kcimaphostsessionlist
+rv
+nssucceeded
+rv
+hostsession
+sethostisusingsubscription
+serverkey
+bval
+setboolvalue
+usingsubscription
+bval
+nsimplserverprefbool
+nsimapincomingserver
+dualusefolders
+dualusefolders
+nsimplserverprefstr
+nsimapincomingserver
+adminurl
+adminurl
+nsimplserverprefbool
+nsimapincomingserver
+cleanupinboxonexit
+cleanupinboxonexit
+nsimplserverprefbool
+nsimapincomingserver
+offlinedownload
+offlinedownload
+nsimplserverprefint
+nsimapincomingserver
+maximumconnectionsnumber
+maxcachedconnections
+nsimplserverprefint
+nsimapincomingserver
+emptytrashthreshhold
+emptytrashthreshhold
+nsimplserverprefbool
+nsimapincomingserver
+storereadmailinpfc
+storereadmailinpfc
+nsimplserverprefbool
+nsimapincomingserver
+storesentmailinpfc
+storesentmailinpfc
+nsimplserverprefbool
+nsimapincomingserver
+downloadbodiesongetnewmail
+downloadbodiesongetnewmail
+nsimethodimp
+nsimapincomingserver
+getdeletemodel
+print
+retval
+nsensurearg
+retval
+nsxpidlcstring
+redirectortype
+getredirectortype
+gettercopies
+redirectortype
+redirectortype
+equals
+aol
+prbool
+suppresspseudoview
+prfalse
+getboolattribute
+suppresspseudoview
+suppresspseudoview
+suppresspseudoview
+retval
+nsmsgimapdeletemodels
+deletenotrash
+retval
+nsmsgimapdeletemodels
+imapdelete
+nsok
+nsresult
+ret
+getintvalue
+deletemodel
+retval
+ret
+nsimethodimp
+nsimapincomingserver
+setdeletemodel
+print
+ivalue
+nsresult
+rv
+setintvalue
+deletemodel
+ivalue
+nssucceeded
+rv
+nscomptr
+nsiimaphostsessionlist
+hostsession
+dogetservice
+kcimaphostsessionlist
+rv
+nsensuresuccess
+rv
+rv
+hostsession
+setdeleteismovetotrashforhost
+mserverkey
+get
+ivalue
+nsmsgimapdeletemodels
+movetotrash
+hostsession
+setshowdeletedmessagesforhost
+mserverkey
+get
+ivalue
+nsmsgimapdeletemodels
+imapdelete
+rv
+nsimplserverprefint
+nsimapincomingserver
+timeoutlimits
+timeout
+nsimplserverprefint
+nsimapincomingserver
+capabilitypref
+capability
+nsimplserverprefstr
+nsimapincomingserver
+personalnamespace
+personal
+nsimplserverprefstr
+nsimapincomingserver
+publicnamespace
+nsimplserverprefstr
+nsimapincomingserver
+otherusersnamespace
+otherusers
+nsimplserverprefbool
+nsimapincomingserver
+fetchbychunks
+fetchbychunks
+nsimplserverprefbool
+nsimapincomingserver
+mimepartsondemand
+mimepartsondemand
+nsimplserverprefbool
+nsimapincomingserver
+aolmailboxview
+aolmailboxview
+nsimethodimp
+nsimapincomingserver
+getisaolserver
+prbool
+abool
+abool
+nserrornullpointer
+abool
+mcapability
+kaolimapcapability
+nsok
+nsimethodimp
+nsimapincomingserver
+setisaolserver
+prbool
+abool
+abool
+mcapability
+kaolimapcapability
+mcapability
+kaolimapcapability
+nsok
+nsimethodimp
+nsimapincomingserver
+getimapconnectionandloadurl
+nsieventqueue
+aclienteventqueue
+nsiimapurl
+aimapurl
+nsisupports
+aconsumer
+nsresult
+rv
+nsok
+nscomptr
+nsiimapprotocol
+aprotocol
+rv
+createimapconnection
+aclienteventqueue
+aimapurl
+getteraddrefs
+aprotocol
+nsfailed
+rv
+rv
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+aimapurl
+rv
+aprotocol
+rv
+aprotocol
+loadurl
+mailnewsurl
+aconsumer
+nsfailed
+rv
+nsassertion
+prfalse
+shouldn
+get
+an
+error
+loading
+url
+rv
+aprotocol
+loadurl
+mailnewsurl
+aconsumer
+prcentermonitor
+nscomptr
+nsisupports
+supports
+doqueryinterface
+aimapurl
+supports
+murlqueue
+appendelement
+supports
+murlconsumers
+appendelement
+aconsumer
+nsifaddref
+aconsumer
+prcexitmonitor
+prbool
+urlrun
+rv
+loadnextqueuedurl
+urlrun
+rv
+nsimethodimp
+nsimapincomingserver
+loadnextqueuedurl
+prbool
+aresult
+pruint
+cnt
+nsresult
+rv
+nsok
+prbool
+urlrun
+prfalse
+prbool
+keepgoing
+prtrue
+nsautocmonitor
+mon
+murlqueue
+count
+cnt
+cnt
+urlrun
+keepgoing
+nscomptr
+nsiimapurl
+aimapurl
+doqueryelementat
+murlqueue
+rv
+nscomptr
+nsimsgmailnewsurl
+amailnewsurl
+doqueryinterface
+aimapurl
+rv
+prbool
+removeurlfromqueue
+prfalse
+aimapurl
+rv
+doomurlifchannelhaserror
+aimapurl
+removeurlfromqueue
+nsensuresuccess
+rv
+rv
+removeurlfromqueue
+nsisupports
+aconsumer
+nsisupports
+murlconsumers
+elementat
+nsifaddref
+aconsumer
+nscomptr
+nsiimapprotocol
+protocolinstance
+rv
+createimapconnection
+nsnull
+aimapurl
+getteraddrefs
+protocolinstance
+nssucceeded
+rv
+protocolinstance
+nscomptr
+nsiuri
+url
+doqueryinterface
+aimapurl
+rv
+nssucceeded
+rv
+url
+rv
+protocolinstance
+loadurl
+url
+aconsumer
+nsassertion
+nssucceeded
+rv
+failed
+running
+queued
+url
+urlrun
+prtrue
+removeurlfromqueue
+prtrue
+keepgoing
+prfalse
+nsifrelease
+aconsumer
+removeurlfromqueue
+murlqueue
+removeelementat
+murlconsumers
+removeelementat
+murlqueue
+count
+cnt
+aresult
+aresult
+urlrun
+rv
+nsimethodimp
+nsimapincomingserver
+abortqueuedurls
+pruint
+cnt
+nsresult
+rv
+nsok
+nsautocmonitor
+mon
+murlqueue
+count
+cnt
+cnt
+nscomptr
+nsiimapurl
+aimapurl
+doqueryelementat
+murlqueue
+cnt
+rv
+prbool
+removeurlfromqueue
+prfalse
+aimapurl
+rv
+doomurlifchannelhaserror
+aimapurl
+removeurlfromqueue
+nsensuresuccess
+rv
+rv
+removeurlfromqueue
+murlqueue
+removeelementat
+cnt
+murlconsumers
+removeelementat
+cnt
+cnt
+rv
+nsresult
+nsimapincomingserver
+doomurlifchannelhaserror
+nsiimapurl
+aimapurl
+prbool
+urldoomed
+nsresult
+rv
+nsok
+nscomptr
+nsimsgmailnewsurl
+amailnewsurl
+doqueryinterface
+aimapurl
+rv
+amailnewsurl
+aimapurl
+nscomptr
+nsiimapmockchannel
+mockchannel
+nssucceeded
+aimapurl
+getmockchannel
+getteraddrefs
+mockchannel
+mockchannel
+nsresult
+requeststatus
+nscomptr
+nsirequest
+request
+doqueryinterface
+mockchannel
+request
+nserrorfailure
+request
+getstatus
+requeststatus
+nsfailed
+requeststatus
+nsresult
+res
+urldoomed
+prtrue
+mockchannel
+close
+amailnewsurl
+nscomptr
+nsicacheentrydescriptor
+cacheentry
+res
+amailnewsurl
+getmemcacheentry
+getteraddrefs
+cacheentry
+nssucceeded
+res
+cacheentry
+cacheentry
+doom
+amailnewsurl
+seturlstate
+prfalse
+nsmsgerrorurlaborted
+rv
+nsimethodimp
+nsimapincomingserver
+removeconnection
+nsiimapprotocol
+aimapconnection
+prcentermonitor
+aimapconnection
+mconnectioncache
+removeelement
+aimapconnection
+prcexitmonitor
+nsok
+prbool
+nsimapincomingserver
+connectiontimeout
+nsiimapprotocol
+aconnection
+prbool
+retval
+prfalse
+aconnection
+retval
+nsresult
+rv
+prcentermonitor
+print
+timeoutinminutes
+rv
+gettimeoutlimits
+timeoutinminutes
+nsfailed
+rv
+timeoutinminutes
+timeoutinminutes
+timeoutinminutes
+settimeoutlimits
+timeoutinminutes
+prtime
+cachetimeoutlimits
+llil
+cachetimeoutlimits
+timeoutinminutes
+prtime
+lastactivetimestamp
+rv
+aconnection
+getlastactivetimestamp
+lastactivetimestamp
+prtime
+elapsedtime
+llsub
+elapsedtime
+prnow
+lastactivetimestamp
+prtime
+llsub
+elapsedtime
+cachetimeoutlimits
+llgezero
+nscomptr
+nsiimapprotocol
+aprotocol
+doqueryinterface
+aconnection
+rv
+nssucceeded
+rv
+aprotocol
+mconnectioncache
+removeelement
+aconnection
+aprotocol
+tellthreadtodie
+prfalse
+retval
+prtrue
+prcexitmonitor
+retval
+nsresult
+nsimapincomingserver
+createimapconnection
+nsieventqueue
+aeventqueue
+nsiimapurl
+aimapurl
+nsiimapprotocol
+aimapconnection
+nsresult
+rv
+nsok
+prbool
+canrunurlimmediately
+prfalse
+prbool
+canrunbutbusy
+prfalse
+nscomptr
+nsiimapprotocol
+connection
+nscomptr
+nsiimapprotocol
+freeconnection
+prbool
+isbusy
+prfalse
+prbool
+isinboxconnection
+prfalse
+nsxpidlcstring
+redirectortype
+prcentermonitor
+getredirectortype
+gettercopies
+redirectortype
+prbool
+redirectlogon
+redirectortype
+isempty
+print
+maxconnections
+rv
+getmaximumconnectionsnumber
+maxconnections
+nsfailed
+rv
+maxconnections
+maxconnections
+rv
+setmaximumconnectionsnumber
+maxconnections
+maxconnections
+maxconnections
+rv
+setmaximumconnectionsnumber
+maxconnections
+pruint
+cnt
+rv
+mconnectioncache
+count
+cnt
+nsfailed
+rv
+rv
+aimapconnection
+nsnull
+prbool
+usercancelled
+prfalse
+pruint
+cnt
+canrunurlimmediately
+canrunbutbusy
+connection
+doqueryelementat
+mconnectioncache
+connection
+connectiontimeout
+connection
+connection
+nsnull
+cnt
+rv
+connection
+canhandleurl
+aimapurl
+canrunurlimmediately
+canrunbutbusy
+ifdef
+debugbienvenu
+nsxpidlcstring
+curselectedfoldername
+connection
+connection
+getselectedmailboxname
+gettercopies
+curselectedfoldername
+curselectedfoldername
+isempty
+pruint
+cnt
+nscomptr
+nsiimapprotocol
+otherconnection
+doqueryelementat
+mconnectioncache
+otherconnection
+nsxpidlcstring
+otherselectedfoldername
+otherconnection
+getselectedmailboxname
+gettercopies
+otherselectedfoldername
+nsassertion
+curselectedfoldername
+equals
+otherselectedfoldername
+two
+connections
+selected
+on
+same
+folder
+endif
+nsfailed
+rv
+connection
+nsnull
+rv
+nsok
+canrunurlimmediately
+canrunbutbusy
+connection
+rv
+connection
+isbusy
+isbusy
+isinboxconnection
+nsfailed
+rv
+isbusy
+isinboxconnection
+freeconnection
+freeconnection
+connection
+nsxpidlcstring
+selectedfoldername
+connection
+getselectedmailboxname
+gettercopies
+selectedfoldername
+selectedfoldername
+isempty
+freeconnection
+connection
+canrunbutbusy
+canrunurlimmediately
+connection
+nsnull
+connectiontimeout
+connection
+connection
+nsnull
+connectiontimeout
+freeconnection
+freeconnection
+nsnull
+canrunbutbusy
+redirectlogon
+connection
+canrunurlimmediately
+mwaitingforconnectioninfo
+mwaitingforconnectioninfo
+prtrue
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+aimapurl
+rv
+nscomptr
+nsimsgwindow
+amsgwindow
+nssucceeded
+rv
+rv
+mailnewsurl
+getmsgwindow
+getteraddrefs
+amsgwindow
+rv
+requestoverrideinfo
+amsgwindow
+mwaitingforconnectioninfo
+canrunbutbusy
+prtrue
+usercancelled
+prtrue
+nsimapstate
+requiredstate
+aimapurl
+getrequiredimapstate
+requiredstate
+canrunurlimmediately
+connection
+aimapconnection
+connection
+nsifaddref
+aimapconnection
+canrunbutbusy
+usercancelled
+rv
+nsbindingaborted
+cnt
+pruint
+maxconnections
+aeventqueue
+freeconnection
+requiredstate
+nsiimapurl
+nsimapselectedstate
+rv
+createprotocolinstance
+aeventqueue
+aimapconnection
+freeconnection
+aimapconnection
+freeconnection
+nsifaddref
+aimapconnection
+prcexitmonitor
+rv
+nsresult
+nsimapincomingserver
+createprotocolinstance
+nsieventqueue
+aeventqueue
+nsiimapprotocol
+aimapconnection
+nsiimapprotocol
+protocolinstance
+nsnull
+nsresult
+rv
+nscomponentmanager
+createinstance
+kimapprotocolcid
+nsnull
+nsgetiid
+nsiimapprotocol
+protocolinstance
+nssucceeded
+rv
+protocolinstance
+nscomptr
+nsiimaphostsessionlist
+hostsession
+dogetservice
+kcimaphostsessionlist
+rv
+nssucceeded
+rv
+rv
+protocolinstance
+initialize
+hostsession
+aeventqueue
+protocolinstance
+mconnectioncache
+appendelement
+protocolinstance
+aimapconnection
+protocolinstance
+rv
+nsimethodimp
+nsimapincomingserver
+closeconnectionforfolder
+nsimsgfolder
+amsgfolder
+nsresult
+rv
+nsok
+nscomptr
+nsiimapprotocol
+connection
+prbool
+isbusy
+prfalse
+isinbox
+prfalse
+pruint
+cnt
+nsxpidlcstring
+infoldername
+nsxpidlcstring
+connectionfoldername
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+doqueryinterface
+amsgfolder
+imapfolder
+nserrornullpointer
+rv
+mconnectioncache
+count
+cnt
+nsfailed
+rv
+rv
+imapfolder
+getonlinename
+gettercopies
+infoldername
+prcentermonitor
+pruint
+cnt
+connection
+doqueryelementat
+mconnectioncache
+connection
+rv
+connection
+getselectedmailboxname
+gettercopies
+connectionfoldername
+plstrcmp
+connectionfoldername
+infoldername
+rv
+connection
+isbusy
+isbusy
+isinbox
+isbusy
+rv
+connection
+tellthreadtodie
+prtrue
+prcexitmonitor
+rv
+nsimethodimp
+nsimapincomingserver
+resetconnection
+foldername
+nsresult
+rv
+nsok
+nscomptr
+nsiimapprotocol
+connection
+prbool
+isbusy
+prfalse
+isinbox
+prfalse
+pruint
+cnt
+nsxpidlcstring
+curfoldername
+rv
+mconnectioncache
+count
+cnt
+nsfailed
+rv
+rv
+prcentermonitor
+pruint
+cnt
+connection
+doqueryelementat
+mconnectioncache
+connection
+rv
+connection
+getselectedmailboxname
+gettercopies
+curfoldername
+plstrcmp
+curfoldername
+foldername
+rv
+connection
+isbusy
+isbusy
+isinbox
+isbusy
+rv
+connection
+resettoauthenticatedstate
+prcexitmonitor
+rv
+nsimethodimp
+nsimapincomingserver
+performexpand
+nsimsgwindow
+amsgwindow
+nsxpidlcstring
+password
+nsresult
+rv
+rv
+getpassword
+gettercopies
+password
+nsfailed
+rv
+rv
+password
+isempty
+nsok
+rv
+resetfolderstounverified
+nsnull
+nscomptr
+nsifolder
+rootfolder
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nsfailed
+rv
+rv
+rootfolder
+nserrorfailure
+nscomptr
+nsimsgfolder
+rootmsgfolder
+doqueryinterface
+rootfolder
+rv
+nsfailed
+rv
+rv
+rootmsgfolder
+nserrorfailure
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+kimapservicecid
+rv
+nsfailed
+rv
+rv
+imapservice
+nserrorfailure
+nscomptr
+nsieventqueue
+queue
+nscomptr
+nsieventqueueservice
+peventqservice
+dogetservice
+keventqueueservicecid
+rv
+nsfailed
+rv
+rv
+peventqservice
+nserrorfailure
+rv
+peventqservice
+getthreadeventqueue
+nscurrentthread
+getteraddrefs
+queue
+nsfailed
+rv
+rv
+rv
+imapservice
+discoverallfolders
+queue
+rootmsgfolder
+amsgwindow
+nsnull
+rv
+nsimethodimp
+nsimapincomingserver
+performbiff
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+nscomptr
+nsimsgfolder
+rootmsgfolder
+rv
+getrootmsgfolder
+getteraddrefs
+rootmsgfolder
+nssucceeded
+rv
+setperformingbiff
+prtrue
+rv
+rootmsgfolder
+getnewmessages
+amsgwindow
+nsnull
+rv
+nsimethodimp
+nsimapincomingserver
+closecachedconnections
+nscomptr
+nsiimapprotocol
+connection
+prcentermonitor
+pruint
+cnt
+nsresult
+rv
+mconnectioncache
+count
+cnt
+nsfailed
+rv
+rv
+pruint
+cnt
+connection
+doqueryelementat
+mconnectioncache
+connection
+connection
+tellthreadtodie
+prtrue
+prcexitmonitor
+rv
+nsimapincomingserver
+getpfcname
+mreadpfcname
+nssucceeded
+getstringbundle
+nsxpidlstring
+pfcname
+nsresult
+res
+mstringbundle
+getstringfromid
+imappersonalfilingcabinet
+gettercopies
+pfcname
+nssucceeded
+res
+mpfcname
+nsconvertucstoutf
+pfcname
+get
+mreadpfcname
+prtrue
+mpfcname
+get
+nsimethodimp
+nsimapincomingserver
+getispfc
+foldername
+prbool
+result
+nsensurearg
+result
+nsensurearg
+foldername
+result
+nscrt
+strcmp
+getpfcname
+foldername
+nsok
+nsimethodimp
+nsimapincomingserver
+getpfc
+prbool
+createifmissing
+nsimsgfolder
+pfcfolder
+nsresult
+rv
+nscomptr
+nsifolder
+rootfolder
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nssucceeded
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+accountmanager
+getlocalfoldersserver
+getteraddrefs
+server
+nssucceeded
+rv
+server
+server
+getrootmsgfolder
+pfcfolder
+rv
+nsresult
+nsimapincomingserver
+getpfcforstringid
+prbool
+createifmissing
+print
+stringid
+nsimsgfolder
+afolder
+nsensureargpointer
+afolder
+nscomptr
+nsimsgfolder
+pfcparent
+nsresult
+rv
+getpfc
+createifmissing
+getteraddrefs
+pfcparent
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+pfcuri
+pfcparent
+geturi
+gettercopies
+pfcuri
+rv
+getstringbundle
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+pfcname
+rv
+mstringbundle
+getstringfromid
+stringid
+gettercopies
+pfcname
+nsensuresuccess
+rv
+rv
+nscautostring
+pfcmailuri
+pfcuri
+pfcmailuri
+append
+pfcmailuri
+append
+nsconvertucstoutf
+pfcname
+get
+pfcparent
+getchildwithuri
+pfcmailuri
+get
+prfalse
+prfalse
+afolder
+afolder
+createifmissing
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+rdf
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+res
+rv
+rdf
+getresource
+pfcmailuri
+getteraddrefs
+res
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgfolder
+parenttocreate
+doqueryinterface
+res
+rv
+nsensuresuccess
+rv
+rv
+parenttocreate
+setparent
+pfcparent
+parenttocreate
+createstorageifmissing
+nsnull
+nsifaddref
+afolder
+parenttocreate
+rv
+nsimethodimp
+nsimapincomingserver
+getreadmailpfc
+prbool
+createifmissing
+nsimsgfolder
+afolder
+nsensureargpointer
+afolder
+getpfcforstringid
+createifmissing
+imappfcreadmail
+afolder
+nsimethodimp
+nsimapincomingserver
+getsentmailpfc
+prbool
+createifmissing
+nsimsgfolder
+afolder
+nsensureargpointer
+afolder
+getpfcforstringid
+createifmissing
+imappfcsentmail
+afolder
+nsimethodimp
+nsimapincomingserver
+possibleimapmailbox
+folderpath
+prunichar
+hierarchydelimiter
+print
+boxflags
+prbool
+anewfolder
+nsresult
+rv
+prbool
+found
+prfalse
+prbool
+haveparent
+prfalse
+nscomptr
+nsimsgimapmailfolder
+hostfolder
+nscomptr
+nsimsgfolder
+afolder
+prbool
+explicitlyverify
+prfalse
+folderpath
+folderpath
+anewfolder
+nserrornullpointer
+anewfolder
+prfalse
+nscomptr
+nsifolder
+rootfolder
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nsfailed
+rv
+rv
+nscomptr
+nsimsgfolder
+ansifolder
+doqueryinterface
+rootfolder
+rv
+nsfailed
+rv
+rv
+mdoingsubscribedialog
+ansifolder
+folderpath
+folderpath
+nscomptr
+nsimsgfolder
+msgfolder
+nscomptr
+nsifolder
+subfolder
+prbool
+isnamespace
+prfalse
+prbool
+noselect
+prfalse
+rv
+ansifolder
+findsubfolder
+folderpath
+getteraddrefs
+subfolder
+nsensuresuccess
+rv
+rv
+msgfolder
+doqueryinterface
+subfolder
+rv
+msubscribefolders
+appendobject
+msgfolder
+nsensuresuccess
+rv
+rv
+noselect
+boxflags
+knoselect
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+doqueryinterface
+msgfolder
+rv
+nsensuresuccess
+rv
+rv
+imapfolder
+sethierarchydelimiter
+hierarchydelimiter
+isnamespace
+boxflags
+knamespace
+isnamespace
+noselect
+rv
+addto
+folderpath
+mdoinglsub
+mdoinglsub
+nsensuresuccess
+rv
+rv
+rv
+hostfolder
+doqueryinterface
+ansifolder
+rv
+nsfailed
+rv
+rv
+nscautostring
+dupfolderpath
+folderpath
+dupfolderpath
+last
+hierarchydelimiter
+dupfolderpath
+setlength
+dupfolderpath
+length
+explicitlyverify
+boxflags
+knamespace
+nscautostring
+tempfoldername
+dupfolderpath
+nscautostring
+tokenstr
+remstr
+changedstr
+print
+slashpos
+tempfoldername
+findchar
+slashpos
+tempfoldername
+left
+tokenstr
+slashpos
+tempfoldername
+right
+remstr
+tempfoldername
+length
+slashpos
+tokenstr
+assign
+tempfoldername
+nscrt
+strcasecmp
+tokenstr
+get
+inbox
+nscrt
+strcmp
+tokenstr
+get
+inbox
+changedstr
+append
+inbox
+changedstr
+append
+tokenstr
+slashpos
+changedstr
+append
+remstr
+dupfolderpath
+assign
+changedstr
+nscautostring
+foldername
+dupfolderpath
+nscautostring
+uri
+nsxpidlcstring
+serveruri
+getserveruri
+gettercopies
+serveruri
+uri
+assign
+serveruri
+print
+leafpos
+foldername
+rfindchar
+nscautostring
+parentname
+foldername
+nscautostring
+parenturi
+uri
+leafpos
+parentname
+truncate
+leafpos
+foldername
+cut
+leafpos
+haveparent
+prtrue
+parenturi
+append
+parenturi
+append
+parentname
+nscrt
+strcasecmp
+inbox
+folderpath
+hierarchydelimiter
+konlinehierarchyseparatornil
+hierarchydelimiter
+hostfolder
+sethierarchydelimiter
+hierarchydelimiter
+prbool
+hidefolder
+rv
+hidefoldername
+dupfolderpath
+get
+hidefolder
+hidefolder
+nsok
+nscomptr
+nsimsgfolder
+child
+uri
+append
+uri
+append
+dupfolderpath
+prbool
+caseinsensitive
+nscrt
+strcasecmp
+inbox
+dupfolderpath
+get
+ansifolder
+getchildwithuri
+uri
+get
+prtrue
+caseinsensitive
+getteraddrefs
+child
+anewfolder
+child
+child
+found
+prtrue
+found
+haveparent
+nscomptr
+nsimsgfolder
+parent
+prbool
+parentisnew
+caseinsensitive
+nscrt
+strcasecmp
+inbox
+parentname
+get
+ansifolder
+getchildwithuri
+parenturi
+get
+prtrue
+caseinsensitive
+getteraddrefs
+parent
+parent
+possibleimapmailbox
+parentname
+get
+hierarchydelimiter
+knoselect
+boxflags
+kpublicmailbox
+kotherusersmailbox
+kpersonalmailbox
+parentisnew
+hostfolder
+createclientsubfolderinfo
+dupfolderpath
+get
+hierarchydelimiter
+boxflags
+prfalse
+caseinsensitive
+nscrt
+strcasecmp
+inbox
+dupfolderpath
+get
+ansifolder
+getchildwithuri
+uri
+get
+prtrue
+caseinsensitive
+getteraddrefs
+child
+child
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+doqueryinterface
+child
+imapfolder
+prbool
+isaolserver
+prfalse
+getisaolserver
+isaolserver
+nsxpidlcstring
+onlinename
+nsxpidlstring
+unicodename
+imapfolder
+setverifiedasonlinefolder
+prtrue
+imapfolder
+sethierarchydelimiter
+hierarchydelimiter
+boxflags
+kimaptrash
+print
+deletemodel
+getdeletemodel
+deletemodel
+deletemodel
+nsmsgimapdeletemodels
+movetotrash
+child
+setflag
+msgfolderflagtrash
+imapfolder
+setboxflags
+boxflags
+imapfolder
+setexplicitlyverify
+explicitlyverify
+imapfolder
+getonlinename
+gettercopies
+onlinename
+boxflags
+knewlycreatedfolder
+prbool
+setnewfoldersforoffline
+prfalse
+getofflinedownload
+setnewfoldersforoffline
+setnewfoldersforoffline
+child
+setflag
+msgfolderflagoffline
+dupfolderpath
+replacechar
+hierarchydelimiter
+hierarchydelimiter
+nsimapurl
+unescapeslashes
+nsconstcast
+dupfolderpath
+get
+onlinename
+isempty
+nscrt
+strcmp
+onlinename
+get
+dupfolderpath
+get
+imapfolder
+setonlinename
+dupfolderpath
+get
+hierarchydelimiter
+nsimapurl
+unescapeslashes
+nsconstcast
+foldername
+get
+nssucceeded
+createprunicharstringfromutf
+foldername
+get
+gettercopies
+unicodename
+child
+setprettyname
+unicodename
+nsxpidlstring
+convertedname
+prbool
+hidefolder
+rv
+hidefoldername
+onlinename
+get
+hidefolder
+hidefolder
+nscomptr
+nsisupports
+support
+doqueryinterface
+child
+rv
+ansifolder
+propagatedelete
+child
+prfalse
+nsnull
+rv
+convertfoldername
+onlinename
+get
+gettercopies
+convertedname
+nsxpidlcstring
+redirectortype
+getredirectortype
+gettercopies
+redirectortype
+redirectortype
+equals
+nsliteralcstring
+aol
+onlinename
+equals
+nsliteralcstring
+sent
+items
+redirectortype
+equals
+nsliteralcstring
+netscape
+onlinename
+equals
+nsliteralcstring
+sent
+child
+setflag
+msgfolderflagsentmail
+redirectortype
+equals
+nsliteralcstring
+netscape
+onlinename
+equals
+nsliteralcstring
+draft
+child
+setflag
+msgfolderflagdrafts
+redirectortype
+equals
+nsliteralcstring
+aol
+onlinename
+equals
+nsliteralcstring
+recycle
+child
+setflag
+msgfolderflagtrash
+nssucceeded
+rv
+child
+setprettyname
+convertedname
+nsok
+nsimethodimp
+nsimapincomingserver
+addfolderrights
+mailboxname
+username
+rights
+nscomptr
+nsifolder
+rootfolder
+nsresult
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nssucceeded
+rv
+rootfolder
+nscomptr
+nsimsgimapmailfolder
+imaproot
+doqueryinterface
+rootfolder
+imaproot
+nscomptr
+nsimsgimapmailfolder
+foundfolder
+rv
+imaproot
+findonlinesubfolder
+mailboxname
+getteraddrefs
+foundfolder
+nssucceeded
+rv
+foundfolder
+foundfolder
+addfolderrights
+username
+rights
+rv
+nsimethodimp
+nsimapincomingserver
+folderneedsaclinitialized
+folderpath
+prbool
+aneedsaclinitialized
+nsensureargpointer
+aneedsaclinitialized
+nscomptr
+nsifolder
+rootfolder
+nsresult
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nssucceeded
+rv
+rootfolder
+nscomptr
+nsimsgimapmailfolder
+imaproot
+doqueryinterface
+rootfolder
+imaproot
+nscomptr
+nsimsgimapmailfolder
+foundfolder
+rv
+imaproot
+findonlinesubfolder
+folderpath
+getteraddrefs
+foundfolder
+nssucceeded
+rv
+foundfolder
+nscomptr
+nsiimapmailfoldersink
+foldersink
+doqueryinterface
+foundfolder
+foldersink
+foldersink
+getfolderneedsacllisted
+aneedsaclinitialized
+aneedsaclinitialized
+prfalse
+nsok
+nsimethodimp
+nsimapincomingserver
+refreshfolderrights
+folderpath
+nscomptr
+nsifolder
+rootfolder
+nsresult
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nssucceeded
+rv
+rootfolder
+nscomptr
+nsimsgimapmailfolder
+imaproot
+doqueryinterface
+rootfolder
+imaproot
+nscomptr
+nsimsgimapmailfolder
+foundfolder
+rv
+imaproot
+findonlinesubfolder
+folderpath
+getteraddrefs
+foundfolder
+nssucceeded
+rv
+foundfolder
+foundfolder
+refreshfolderrights
+rv
+nsimethodimp
+nsimapincomingserver
+getredirectortype
+redirectortype
+mreadredirectortype
+redirectortype
+tonewcstring
+mredirectortype
+nsok
+nsresult
+rv
+rv
+getcharvalue
+redirectortype
+redirectortype
+mredirectortype
+redirectortype
+mreadredirectortype
+prtrue
+redirectortype
+nscrt
+strcasecmp
+redirectortype
+aol
+nsxpidlcstring
+hostname
+gethostname
+gettercopies
+hostname
+hostname
+get
+nscrt
+strcasecmp
+hostname
+imap
+mail
+netcenter
+setredirectortype
+netscape
+nscautostring
+prefname
+rv
+createhostspecificprefname
+defaultredirectortype
+prefname
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+defaultredirectortype
+nscomptr
+nsiprefservice
+prefs
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+rv
+prefs
+getbranch
+nsnull
+getteraddrefs
+prefbranch
+nsensuresuccess
+rv
+rv
+rv
+prefbranch
+getcharpref
+prefname
+get
+gettercopies
+defaultredirectortype
+nssucceeded
+rv
+defaultredirectortype
+isempty
+mredirectortype
+defaultredirectortype
+get
+nsok
+nsimethodimp
+nsimapincomingserver
+setredirectortype
+redirectortype
+mredirectortype
+redirectortype
+setcharvalue
+redirectortype
+redirectortype
+nsimethodimp
+nsimapincomingserver
+gettrashfolderbyredirectortype
+specialtrashname
+nsensureargpointer
+specialtrashname
+specialtrashname
+nsnull
+nsresult
+rv
+nscautostring
+prefname
+rv
+createprefnamewithredirectortype
+trashfolder
+prefname
+nsfailed
+rv
+nsok
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+prefbranch
+getcharpref
+prefname
+get
+specialtrashname
+nssucceeded
+rv
+specialtrashname
+specialtrashname
+nserrorfailure
+rv
+nsimethodimp
+nsimapincomingserver
+allowfolderconversion
+prbool
+allowconversion
+nsensureargpointer
+allowconversion
+nsresult
+rv
+allowconversion
+prfalse
+nscautostring
+prefname
+rv
+createprefnamewithredirectortype
+convertfolders
+prefname
+nsfailed
+rv
+nsok
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+prefbranch
+getboolpref
+prefname
+get
+allowconversion
+nsok
+nsimethodimp
+nsimapincomingserver
+convertfoldername
+originalname
+prunichar
+convertedname
+nsensureargpointer
+convertedname
+nsresult
+rv
+nsok
+convertedname
+nsnull
+prbool
+allowconversion
+rv
+allowfolderconversion
+allowconversion
+nssucceeded
+rv
+allowconversion
+nserrorfailure
+nscomptr
+nsistringbundle
+stringbundle
+nscautostring
+propertyurl
+nsxpidlcstring
+redirectortype
+getredirectortype
+gettercopies
+redirectortype
+redirectortype
+nserrorfailure
+propertyurl
+messenger
+locale
+propertyurl
+append
+redirectortype
+propertyurl
+append
+imap
+properties
+nscomptr
+nsistringbundleservice
+sbundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nssucceeded
+rv
+nsnull
+sbundleservice
+rv
+sbundleservice
+createbundle
+propertyurl
+get
+getteraddrefs
+stringbundle
+nssucceeded
+rv
+rv
+stringbundle
+getstringfromname
+nsconvertasciitoucs
+originalname
+get
+convertedname
+nssucceeded
+rv
+convertedname
+convertedname
+nserrorfailure
+rv
+nsimethodimp
+nsimapincomingserver
+hidefoldername
+foldername
+prbool
+hidefolder
+nsensureargpointer
+hidefolder
+nsresult
+rv
+hidefolder
+prfalse
+foldername
+foldername
+nsok
+nscautostring
+prefname
+rv
+createprefnamewithredirectortype
+hidefolder
+prefname
+nsfailed
+rv
+nsok
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+prefname
+append
+foldername
+prefbranch
+getboolpref
+prefname
+get
+hidefolder
+nsok
+nsresult
+nsimapincomingserver
+getfolder
+name
+nsimsgfolder
+pfolder
+nsresult
+rv
+nserrornullpointer
+name
+name
+pfolder
+rv
+pfolder
+nsnull
+nscomptr
+nsifolder
+rootfolder
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nssucceeded
+rv
+rootfolder
+nsxpidlcstring
+uri
+rv
+rootfolder
+geturi
+gettercopies
+uri
+nssucceeded
+rv
+uri
+nscautostring
+uristring
+uri
+uristring
+append
+uristring
+append
+name
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+krdfservicecid
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsirdfresource
+res
+rv
+rdf
+getresource
+uristring
+getteraddrefs
+res
+nssucceeded
+rv
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+res
+rv
+nssucceeded
+rv
+folder
+pfolder
+folder
+nsaddref
+pfolder
+rv
+nsimethodimp
+nsimapincomingserver
+onlinefolderdelete
+afoldername
+nsok
+nsimethodimp
+nsimapincomingserver
+onlinefoldercreatefailed
+afoldername
+nsok
+nsimethodimp
+nsimapincomingserver
+onlinefolderrename
+nsimsgwindow
+msgwindow
+oldname
+newname
+nsresult
+rv
+nserrorfailure
+newname
+newname
+nscomptr
+nsimsgfolder
+me
+rv
+getfolder
+oldname
+getteraddrefs
+me
+nsfailed
+rv
+rv
+nscomptr
+nsimsgfolder
+parent
+nscautostring
+newnamestring
+newname
+nscautostring
+parentname
+print
+folderstart
+newnamestring
+rfindchar
+folderstart
+newnamestring
+left
+parentname
+folderstart
+rv
+getfolder
+parentname
+get
+getteraddrefs
+parent
+nscomptr
+nsifolder
+rootfolder
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+parent
+doqueryinterface
+rootfolder
+rv
+nssucceeded
+rv
+parent
+nscomptr
+nsimsgimapmailfolder
+folder
+folder
+doqueryinterface
+me
+rv
+nssucceeded
+rv
+folder
+renamelocal
+newname
+parent
+nscomptr
+nsimsgimapmailfolder
+parentimapfolder
+doqueryinterface
+parent
+parentimapfolder
+parentimapfolder
+renameclient
+msgwindow
+me
+oldname
+newname
+nscomptr
+nsimsgfolder
+newfolder
+rv
+getfolder
+newname
+getteraddrefs
+newfolder
+nssucceeded
+rv
+nscomptr
+nsiatom
+folderrenameatom
+folderrenameatom
+getteraddrefs
+nsnewatom
+renamecompleted
+newfolder
+notifyfolderevent
+folderrenameatom
+rv
+nsimethodimp
+nsimapincomingserver
+folderisnoselect
+afoldername
+prbool
+result
+result
+nserrornullpointer
+nscomptr
+nsimsgfolder
+msgfolder
+nsresult
+rv
+getfolder
+afoldername
+getteraddrefs
+msgfolder
+nssucceeded
+rv
+msgfolder
+pruint
+flags
+msgfolder
+getflags
+flags
+result
+flags
+msgfolderflagimapnoselect
+result
+prfalse
+nsok
+nsimethodimp
+nsimapincomingserver
+setfolderadminurl
+afoldername
+afolderadminurl
+nscomptr
+nsifolder
+rootfolder
+nsresult
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nssucceeded
+rv
+rootfolder
+nscomptr
+nsimsgimapmailfolder
+imaproot
+doqueryinterface
+rootfolder
+imaproot
+nscomptr
+nsimsgimapmailfolder
+foundfolder
+rv
+imaproot
+findonlinesubfolder
+afoldername
+getteraddrefs
+foundfolder
+nssucceeded
+rv
+foundfolder
+foundfolder
+setadminurl
+afolderadminurl
+rv
+nsimethodimp
+nsimapincomingserver
+folderverifiedonline
+foldername
+prbool
+aresult
+nsensureargpointer
+aresult
+aresult
+prfalse
+nscomptr
+nsifolder
+rootfolder
+nsresult
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nssucceeded
+rv
+rootfolder
+nscomptr
+nsifolder
+afolder
+rv
+rootfolder
+findsubfolder
+foldername
+getteraddrefs
+afolder
+nssucceeded
+rv
+afolder
+nscomptr
+nsiimapmailfoldersink
+imapfolder
+doqueryinterface
+afolder
+imapfolder
+imapfolder
+getfolderverifiedonline
+aresult
+rv
+nsimethodimp
+nsimapincomingserver
+discoverydone
+nsresult
+rv
+nserrorfailure
+mdoingsubscribedialog
+nsok
+nscomptr
+nsifolder
+rootfolder
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nssucceeded
+rv
+rootfolder
+nsfailed
+rv
+rv
+nscomptr
+nsimsgfolder
+rootmsgfolder
+doqueryinterface
+rootfolder
+rv
+rootmsgfolder
+rootmsgfolder
+setprefflag
+pruint
+numfolders
+rv
+rootmsgfolder
+getfolderswithflag
+msgfolderflagtrash
+numfolders
+nssucceeded
+rv
+numfolders
+nsxpidlstring
+trashname
+nssucceeded
+gettrashfoldername
+gettercopies
+trashname
+nsimsgfolder
+trashfolders
+nssucceeded
+rootmsgfolder
+getfolderswithflag
+msgfolderflagtrash
+numfolders
+trashfolders
+pruint
+numfolders
+nsxpidlstring
+foldername
+nssucceeded
+trashfolders
+getname
+gettercopies
+foldername
+foldername
+equals
+trashname
+trashfolders
+clearflag
+msgfolderflagtrash
+nsrelease
+trashfolders
+print
+numunverifiedfolders
+nscomptr
+nsisupportsarray
+unverifiedfolders
+rv
+nsnewisupportsarray
+getteraddrefs
+unverifiedfolders
+nsfailed
+rv
+rv
+rv
+getunverifiedfolders
+unverifiedfolders
+numunverifiedfolders
+numunverifiedfolders
+print
+numunverifiedfolders
+prbool
+explicitlyverify
+prfalse
+prbool
+hassubfolders
+prfalse
+nscomptr
+nsisupports
+element
+unverifiedfolders
+getelementat
+getteraddrefs
+element
+nscomptr
+nsimsgimapmailfolder
+currentimapfolder
+doqueryinterface
+element
+rv
+nscomptr
+nsifolder
+currentfolder
+doqueryinterface
+element
+rv
+nsfailed
+rv
+nssucceeded
+currentimapfolder
+getexplicitlyverify
+explicitlyverify
+explicitlyverify
+nssucceeded
+currentfolder
+gethassubfolders
+hassubfolders
+hassubfolders
+nodescendentsareverified
+currentfolder
+currentimapfolder
+setexplicitlyverify
+prfalse
+currentimapfolder
+list
+deletenonverifiedfolders
+currentfolder
+rv
+nsresult
+nsimapincomingserver
+deletenonverifiedfolders
+nsifolder
+curfolder
+prbool
+autounsubscribefromnoselectfolders
+prtrue
+nsresult
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nssucceeded
+rv
+prefbranch
+getboolpref
+mail
+imap
+autounsubscribefromnoselectfolders
+autounsubscribefromnoselectfolders
+nscomptr
+nsienumerator
+subfolders
+rv
+curfolder
+getsubfolders
+getteraddrefs
+subfolders
+nssucceeded
+rv
+nsadapterenumerator
+simpleenumerator
+nsadapterenumerator
+subfolders
+simpleenumerator
+nsnull
+nserroroutofmemory
+prbool
+morefolders
+nssucceeded
+simpleenumerator
+hasmoreelements
+morefolders
+morefolders
+nscomptr
+nsisupports
+child
+rv
+simpleenumerator
+getnext
+getteraddrefs
+child
+nssucceeded
+rv
+child
+prbool
+childverified
+prfalse
+nscomptr
+nsimsgimapmailfolder
+childimapfolder
+doqueryinterface
+child
+rv
+nssucceeded
+rv
+childimapfolder
+pruint
+flags
+nscomptr
+nsimsgfolder
+childfolder
+doqueryinterface
+child
+rv
+rv
+childimapfolder
+getverifiedasonlinefolder
+childverified
+rv
+childfolder
+getflags
+flags
+prbool
+folderisnoselectfolder
+nssucceeded
+rv
+flags
+msgfolderflagimapnoselect
+prbool
+usingsubscription
+prtrue
+getusingsubscription
+usingsubscription
+usingsubscription
+prbool
+folderisnamespace
+prfalse
+prbool
+nodescendentsareverified
+nodescendentsareverified
+childfolder
+prbool
+shoulddiebecausenoselect
+folderisnoselectfolder
+nodescendentsareverified
+alldescendentsarenoselect
+childfolder
+folderisnamespace
+prfalse
+childverified
+nodescendentsareverified
+shoulddiebecausenoselect
+simpleenumerator
+msgimapfolderinfomail
+parentimapfolder
+parentfolder
+gettype
+folderimapmail
+msgimapfolderinfomail
+parentfolder
+msgimapfolderinfomail
+xpbool
+parentchildrenwerelisted
+parentimapfolder
+llcmp
+parentimapfolder
+gettimestampoflastlist
+imapgettimestampofnonpipelinedlist
+msgimaphost
+imaphost
+currentimapfolder
+getimaphost
+prbool
+usingsubscription
+imaphost
+imaphost
+getishostusingsubscription
+prtrue
+prbool
+folderisnoselectfolder
+currentimapfolder
+getfolderprefflags
+msgfolderflagimapnoselect
+prbool
+shoulddiebecausenoselect
+usingsubscription
+folderisnoselectfolder
+nodescendantsareverified
+currentimapfolder
+alldescendantsarenoselect
+currentimapfolder
+currentimapfolder
+getfolderisnamespace
+prfalse
+prfalse
+prbool
+offlinecreate
+currentimapfolder
+getfolderprefflags
+msgfolderflagcreatedoffline
+currentimapfolder
+getexplicitlyverify
+offlinecreate
+autounsubscribefromnoselectfolders
+shoulddiebecausenoselect
+usingsubscription
+prtrue
+parentchildrenwerelisted
+currentimapfolder
+getisonlineverified
+nodescendantsareverified
+currentimapfolder
+urlpane
+xpptrarray
+referringpanes
+uint
+total
+urlpane
+getmaster
+findpanesreferringtofolder
+currentfolder
+referringpanes
+total
+referringpanes
+getsize
+total
+msgpane
+currentpane
+msgpane
+referringpanes
+getat
+currentpane
+currentpane
+getfolder
+currentfolder
+currentpane
+setfolder
+fepanechanged
+currentpane
+prtrue
+msgpanenotifyfolderdeleted
+uint
+currentfolder
+fepanechanged
+urlpane
+prtrue
+msgpanenotifyfolderdeleted
+uint
+currentfolder
+msgthreadpane
+urlpane
+getimapupgradefolder
+currentfolder
+msgthreadpane
+urlpane
+setimapupgradefolder
+urlpane
+getfolder
+currentfolder
+urlpane
+shoulddiebecausenoselect
+autounsubscribefromnoselectfolders
+usingsubscription
+unsubscribeurl
+createimapunsubscribemailboxurl
+imaphost
+gethostname
+currentimapfolder
+getonlinename
+currentimapfolder
+getonlinehierarchyseparator
+unsubscribeurl
+urlpane
+msgurlqueue
+addurltopane
+unsubscribeurl
+urlpane
+folderpane
+msgurlqueue
+addurltopane
+unsubscribeurl
+folderpane
+xpfree
+unsubscribeurl
+alldescendantsarenoselect
+currentimapfolder
+currentimapfolder
+getnumsubfolders
+urlpane
+unsubscribefromalldescendants
+currentimapfolder
+urlpane
+folderpane
+unsubscribefromalldescendants
+currentimapfolder
+folderpane
+ifdef
+debugchrisf
+prassert
+prfalse
+endif
+parentfolder
+propagatedelete
+currentfolder
+numberofsubfolders
+folderindex
+currentfolder
+hassubfolders
+deletenonverifiedimapfolders
+currentfolder
+folderpane
+urlpane
+folderindex
+endif
+nscomptr
+nsifolder
+parent
+nscomptr
+nsimsgfolder
+msgfolder
+doqueryinterface
+curfolder
+rv
+curfolder
+getparent
+getteraddrefs
+parent
+nssucceeded
+rv
+parent
+nscomptr
+nsimsgimapmailfolder
+imapparent
+doqueryinterface
+parent
+imapparent
+imapparent
+removesubfolder
+msgfolder
+rv
+prbool
+nsimapincomingserver
+nodescendentsareverified
+nsifolder
+parentfolder
+prbool
+nobodyisverified
+prtrue
+nscomptr
+nsienumerator
+subfolders
+nsresult
+rv
+parentfolder
+getsubfolders
+getteraddrefs
+subfolders
+nssucceeded
+rv
+nsadapterenumerator
+simpleenumerator
+nsadapterenumerator
+subfolders
+simpleenumerator
+nsnull
+nserroroutofmemory
+prbool
+morefolders
+nssucceeded
+simpleenumerator
+hasmoreelements
+morefolders
+morefolders
+nobodyisverified
+nscomptr
+nsisupports
+child
+rv
+simpleenumerator
+getnext
+getteraddrefs
+child
+nssucceeded
+rv
+child
+prbool
+childverified
+prfalse
+nscomptr
+nsimsgimapmailfolder
+childimapfolder
+doqueryinterface
+child
+rv
+nssucceeded
+rv
+childimapfolder
+nscomptr
+nsifolder
+childfolder
+doqueryinterface
+child
+rv
+rv
+childimapfolder
+getverifiedasonlinefolder
+childverified
+nobodyisverified
+childverified
+nodescendentsareverified
+childfolder
+simpleenumerator
+nobodyisverified
+prbool
+nsimapincomingserver
+alldescendentsarenoselect
+nsifolder
+parentfolder
+prbool
+alldescendentsarenoselect
+prtrue
+nscomptr
+nsienumerator
+subfolders
+nsresult
+rv
+parentfolder
+getsubfolders
+getteraddrefs
+subfolders
+nssucceeded
+rv
+nsadapterenumerator
+simpleenumerator
+nsadapterenumerator
+subfolders
+simpleenumerator
+nsnull
+nserroroutofmemory
+prbool
+morefolders
+nssucceeded
+simpleenumerator
+hasmoreelements
+morefolders
+morefolders
+alldescendentsarenoselect
+nscomptr
+nsisupports
+child
+rv
+simpleenumerator
+getnext
+getteraddrefs
+child
+nssucceeded
+rv
+child
+prbool
+childisnoselect
+prfalse
+nscomptr
+nsimsgimapmailfolder
+childimapfolder
+doqueryinterface
+child
+rv
+nssucceeded
+rv
+childimapfolder
+pruint
+flags
+nscomptr
+nsimsgfolder
+childfolder
+doqueryinterface
+child
+rv
+rv
+childfolder
+getflags
+flags
+childisnoselect
+nssucceeded
+rv
+flags
+msgfolderflagimapnoselect
+alldescendentsarenoselect
+childisnoselect
+alldescendentsarenoselect
+childfolder
+simpleenumerator
+numberofsubfolders
+parentfolder
+getnumsubfolders
+childindex
+alldescendantsarenoselect
+childindex
+numberofsubfolders
+childindex
+msgimapfolderinfomail
+currentchild
+msgimapfolderinfomail
+parentfolder
+getsubfolder
+childindex
+alldescendentsarenoselect
+currentchild
+getfolderprefflags
+msgfolderprefimapnoselect
+alldescendentsarenoselect
+currentchild
+endif
+alldescendentsarenoselect
+nsimapincomingserver
+unsubscribefromalldescendents
+nsifolder
+parentfolder
+numberofsubfolders
+parentfolder
+getnumsubfolders
+childindex
+childindex
+numberofsubfolders
+childindex
+msgimapfolderinfomail
+currentchild
+msgimapfolderinfomail
+parentfolder
+getsubfolder
+childindex
+unsubscribeurl
+createimapunsubscribemailboxurl
+currentchild
+gethostname
+currentchild
+getonlinename
+currentchild
+getonlinehierarchyseparator
+unsubscribeurl
+msgurlqueue
+addurltopane
+unsubscribeurl
+pane
+xpfree
+unsubscribeurl
+unsubscribefromalldescendants
+currentchild
+endif
+nsimethodimp
+nsimapincomingserver
+fealert
+prunichar
+astring
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+nsok
+nscomptr
+nsiprompt
+dialog
+amsgwindow
+amsgwindow
+getpromptdialog
+getteraddrefs
+dialog
+dialog
+nscomptr
+nsiwindowwatcher
+wwatch
+dogetservice
+nswindowwatchercontractid
+wwatch
+wwatch
+getnewprompter
+getteraddrefs
+dialog
+dialog
+rv
+dialog
+alert
+nsnull
+astring
+rv
+nsimethodimp
+nsimapincomingserver
+fealertfromserver
+astring
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+nsok
+nscomptr
+nsiprompt
+dialog
+amsgwindow
+amsgwindow
+getpromptdialog
+getteraddrefs
+dialog
+dialog
+nscomptr
+nsiwindowwatcher
+wwatch
+dogetservice
+nswindowwatchercontractid
+wwatch
+wwatch
+getnewprompter
+getteraddrefs
+dialog
+astring
+whererealmessage
+plstrchr
+astring
+whererealmessage
+whererealmessage
+whererealmessage
+whererealmessage
+plstrchr
+whererealmessage
+whererealmessage
+print
+len
+plstrlen
+whererealmessage
+len
+whererealmessage
+len
+whererealmessage
+len
+prunichar
+serversaidprefix
+nsnull
+getimapstringbyid
+imapserversaid
+serversaidprefix
+serversaidprefix
+nsautostring
+message
+serversaidprefix
+message
+append
+nsconvertutftoucs
+whererealmessage
+whererealmessage
+astring
+rv
+dialog
+alert
+nsnull
+message
+get
+prfree
+serversaidprefix
+rv
+define
+imapmsgsurl
+messenger
+locale
+imapmsgs
+properties
+nsresult
+nsimapincomingserver
+getstringbundle
+nsresult
+res
+mstringbundle
+propertyurl
+imapmsgsurl
+nscomptr
+nsistringbundleservice
+sbundleservice
+dogetservice
+nsstringbundlecontractid
+res
+nssucceeded
+res
+nsnull
+sbundleservice
+res
+sbundleservice
+createbundle
+propertyurl
+getteraddrefs
+mstringbundle
+mstringbundle
+nsok
+res
+nsimethodimp
+nsimapincomingserver
+getimapstringbyid
+print
+amsgid
+prunichar
+astring
+nsresult
+res
+nsok
+getstringbundle
+mstringbundle
+res
+mstringbundle
+getstringfromid
+amsgid
+astring
+nssucceeded
+res
+res
+nsautostring
+resultstring
+nsliteralstring
+string
+id
+resultstring
+appendint
+amsgid
+astring
+tonewunicode
+resultstring
+nsok
+nsimethodimp
+nsimapincomingserver
+formatstringwithhostnamebyid
+print
+amsgid
+prunichar
+astring
+nsresult
+res
+nsok
+getstringbundle
+mstringbundle
+nsxpidlcstring
+hostname
+res
+getrealhostname
+gettercopies
+hostname
+nssucceeded
+res
+nsautostring
+hoststr
+hoststr
+assignwithconversion
+hostname
+get
+prunichar
+params
+hoststr
+get
+res
+mstringbundle
+formatstringfromid
+amsgid
+params
+astring
+nssucceeded
+res
+res
+nsautostring
+resultstring
+nsliteralstring
+string
+id
+resultstring
+appendint
+amsgid
+astring
+tonewunicode
+resultstring
+nsok
+nsresult
+nsimapincomingserver
+resetfolderstounverified
+nsifolder
+parentfolder
+nsresult
+rv
+nsok
+parentfolder
+nscomptr
+nsifolder
+rootfolder
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nsfailed
+rv
+rv
+resetfolderstounverified
+rootfolder
+nscomptr
+nsienumerator
+subfolders
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+doqueryinterface
+parentfolder
+rv
+nsfailed
+rv
+rv
+rv
+imapfolder
+setverifiedasonlinefolder
+prfalse
+rv
+parentfolder
+getsubfolders
+getteraddrefs
+subfolders
+nsfailed
+rv
+rv
+nsadapterenumerator
+simpleenumerator
+nsadapterenumerator
+subfolders
+simpleenumerator
+nserroroutofmemory
+prbool
+morefolders
+prfalse
+nssucceeded
+simpleenumerator
+hasmoreelements
+morefolders
+morefolders
+nscomptr
+nsisupports
+child
+rv
+simpleenumerator
+getnext
+getteraddrefs
+child
+nssucceeded
+rv
+child
+nscomptr
+nsifolder
+childfolder
+doqueryinterface
+child
+rv
+nssucceeded
+rv
+childfolder
+rv
+resetfolderstounverified
+childfolder
+nsfailed
+rv
+simpleenumerator
+rv
+nsresult
+nsimapincomingserver
+getunverifiedfolders
+nsisupportsarray
+afoldersarray
+print
+anumunverifiedfolders
+afoldersarray
+anumunverifiedfolders
+nserrornullpointer
+anumunverifiedfolders
+anumunverifiedfolders
+nscomptr
+nsifolder
+rootfolder
+nsresult
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nssucceeded
+rv
+rootfolder
+nscomptr
+nsimsgimapmailfolder
+imaproot
+doqueryinterface
+rootfolder
+imaproot
+imaproot
+setverifiedasonlinefolder
+prtrue
+rv
+getunverifiedsubfolders
+rootfolder
+afoldersarray
+anumunverifiedfolders
+rv
+nsresult
+nsimapincomingserver
+getunverifiedsubfolders
+nsifolder
+parentfolder
+nsisupportsarray
+afoldersarray
+print
+anumunverifiedfolders
+nsresult
+rv
+nsok
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+doqueryinterface
+parentfolder
+prbool
+verified
+prfalse
+explicitlyverify
+prfalse
+imapfolder
+rv
+imapfolder
+getverifiedasonlinefolder
+verified
+nssucceeded
+rv
+rv
+imapfolder
+getexplicitlyverify
+explicitlyverify
+nssucceeded
+rv
+verified
+explicitlyverify
+afoldersarray
+nscomptr
+nsisupports
+supports
+doqueryinterface
+imapfolder
+afoldersarray
+appendelement
+supports
+anumunverifiedfolders
+anumunverifiedfolders
+nscomptr
+nsienumerator
+subfolders
+rv
+parentfolder
+getsubfolders
+getteraddrefs
+subfolders
+nssucceeded
+rv
+nsadapterenumerator
+simpleenumerator
+nsadapterenumerator
+subfolders
+simpleenumerator
+nsnull
+nserroroutofmemory
+prbool
+morefolders
+nssucceeded
+simpleenumerator
+hasmoreelements
+morefolders
+morefolders
+nscomptr
+nsisupports
+child
+rv
+simpleenumerator
+getnext
+getteraddrefs
+child
+nssucceeded
+rv
+child
+nscomptr
+nsifolder
+childfolder
+doqueryinterface
+child
+rv
+nssucceeded
+rv
+childfolder
+rv
+getunverifiedsubfolders
+childfolder
+afoldersarray
+anumunverifiedfolders
+nsfailed
+rv
+simpleenumerator
+rv
+nsimethodimp
+nsimapincomingserver
+forgetsessionpassword
+nsresult
+rv
+nsmsgincomingserver
+forgetsessionpassword
+nsensuresuccess
+rv
+rv
+muserauthenticated
+prfalse
+nsok
+nsimethodimp
+nsimapincomingserver
+getserverrequirespasswordforbiff
+prbool
+aserverrequirespasswordforbiff
+nsensureargpointer
+aserverrequirespasswordforbiff
+aserverrequirespasswordforbiff
+muserauthenticated
+nsok
+nsimethodimp
+nsimapincomingserver
+forgetpassword
+nsmsgincomingserver
+forgetpassword
+nsimethodimp
+nsimapincomingserver
+promptforpassword
+apassword
+nsimsgwindow
+amsgwindow
+nsxpidlstring
+passwordtitle
+imapgetstringbyid
+imapenterpasswordprompttitle
+gettercopies
+passwordtitle
+nsxpidlcstring
+username
+prbool
+okayvalue
+getrealusername
+gettercopies
+username
+nscautostring
+promptvalue
+username
+nscautostring
+prefname
+nsresult
+rv
+createprefnamewithredirectortype
+hidehostnameforpassword
+prefname
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+prbool
+hidehostnameforpassword
+prfalse
+rv
+prefbranch
+getboolpref
+prefname
+get
+hidehostnameforpassword
+nssucceeded
+rv
+hidehostnameforpassword
+nsxpidlcstring
+hostname
+getrealhostname
+gettercopies
+hostname
+promptvalue
+append
+promptvalue
+append
+hostname
+nsxpidlstring
+passwordtext
+rv
+getformattedstringfromid
+nsconvertasciitoucs
+promptvalue
+get
+imapenterpasswordprompt
+gettercopies
+passwordtext
+nsensuresuccess
+rv
+rv
+rv
+getpasswordwithui
+passwordtext
+passwordtitle
+amsgwindow
+okayvalue
+apassword
+okayvalue
+rv
+nsmsgpasswordpromptcancelled
+nsimethodimp
+nsimapincomingserver
+setcapability
+pruint
+capability
+mcapability
+capability
+setcapabilitypref
+capability
+nsok
+nsimethodimp
+nsimapincomingserver
+commitnamespaces
+nsresult
+rv
+nscomptr
+nsiimaphostsessionlist
+hostsession
+dogetservice
+kcimaphostsessionlist
+rv
+nsfailed
+rv
+rv
+hostsession
+commitnamespacesforhost
+nsimethodimp
+nsimapincomingserver
+pseudointerruptmsgload
+nsimsgfolder
+aimapfolder
+nsimsgwindow
+amsgwindow
+prbool
+interrupted
+nsresult
+rv
+nsok
+nscomptr
+nsiimapprotocol
+connection
+prcentermonitor
+pruint
+cnt
+rv
+mconnectioncache
+count
+cnt
+nsfailed
+rv
+rv
+pruint
+cnt
+connection
+doqueryelementat
+mconnectioncache
+connection
+rv
+connection
+pseudointerruptmsgload
+aimapfolder
+amsgwindow
+interrupted
+prcexitmonitor
+rv
+nsimethodimp
+nsimapincomingserver
+resetnamespacereferences
+nscomptr
+nsifolder
+rootfolder
+nsresult
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nssucceeded
+rv
+rootfolder
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+doqueryinterface
+rootfolder
+imapfolder
+rv
+imapfolder
+resetnamespacereferences
+rv
+nsimplgetset
+nsimapincomingserver
+userauthenticated
+prbool
+muserauthenticated
+nsimethodimp
+nsimapincomingserver
+setmailserverurls
+managemailaccount
+managelists
+managefilters
+setmanagemailaccounturl
+managemailaccount
+nsimethodimp
+nsimapincomingserver
+setmanagemailaccounturl
+managemailaccounturl
+mmanagemailaccounturl
+managemailaccounturl
+nsok
+nsimethodimp
+nsimapincomingserver
+getmanagemailaccounturl
+managemailaccounturl
+managemailaccounturl
+nserrornullpointer
+managemailaccounturl
+tonewcstring
+mmanagemailaccounturl
+nsok
+nsimethodimp
+nsimapincomingserver
+removechannelfromurl
+nsimsgmailnewsurl
+aurl
+pruint
+statuscode
+nsresult
+rv
+nsok
+aurl
+nscomptr
+nsiimapurl
+imapurl
+doqueryinterface
+aurl
+imapurl
+rv
+imapurl
+removechannel
+statuscode
+rv
+nsimethodimp
+nsimapincomingserver
+createprunicharstringfromutf
+asourcestring
+prunichar
+aunicodestr
+createunicodestringfromutf
+asourcestring
+aunicodestr
+nsresult
+nsimapincomingserver
+requestoverrideinfo
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+nscautostring
+contractid
+nsmsglogonredirectorservicecontractid
+nsxpidlcstring
+redirectortype
+getredirectortype
+gettercopies
+redirectortype
+contractid
+append
+contractid
+append
+redirectortype
+mlogonredirector
+dogetservice
+contractid
+get
+rv
+mlogonredirector
+nssucceeded
+rv
+nscomptr
+nsimsglogonredirectionrequester
+logonredirectorrequester
+rv
+queryinterface
+nsgetiid
+nsimsglogonredirectionrequester
+getteraddrefs
+logonredirectorrequester
+nssucceeded
+rv
+nsxpidlcstring
+password
+nsxpidlcstring
+username
+prbool
+requirespassword
+prtrue
+getrealusername
+gettercopies
+username
+mlogonredirector
+requirespassword
+username
+redirectortype
+get
+requirespassword
+requirespassword
+getpassword
+gettercopies
+password
+password
+isempty
+promptforpassword
+gettercopies
+password
+amsgwindow
+password
+isempty
+mwaitingforconnectioninfo
+prfalse
+nsok
+setuserauthenticated
+prtrue
+nscomptr
+nsiprompt
+dialogprompter
+amsgwindow
+amsgwindow
+getpromptdialog
+getteraddrefs
+dialogprompter
+rv
+mlogonredirector
+logon
+username
+password
+redirectortype
+dialogprompter
+logonredirectorrequester
+nsmsglogonredirectionserviceids
+imap
+nsfailed
+rv
+onlogonredirectionerror
+nsnull
+prtrue
+rv
+nsimethodimp
+nsimapincomingserver
+onlogonredirectionerror
+prunichar
+perrmsg
+prbool
+badpassword
+nsresult
+rv
+nsok
+nsxpidlstring
+progressstring
+getimapstringbyid
+imapredirectloginfailed
+gettercopies
+progressstring
+nscomptr
+nsimsgwindow
+msgwindow
+pruint
+urlqueuecnt
+murlqueue
+count
+urlqueuecnt
+nscomptr
+nsisupports
+asupport
+nscomptr
+nsiimapurl
+aimapurl
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+urlqueuecnt
+asupport
+getteraddrefs
+murlqueue
+elementat
+aimapurl
+doqueryinterface
+asupport
+rv
+mailnewsurl
+doqueryinterface
+asupport
+rv
+mailnewsurl
+mailnewsurl
+getmsgwindow
+getteraddrefs
+msgwindow
+msgwindow
+fealert
+progressstring
+msgwindow
+badpassword
+forgetpassword
+prbool
+reseturlstate
+prfalse
+badpassword
+mredirectedlogonretries
+urlqueuecnt
+nscomptr
+nsiimapprotocol
+imapprotocol
+nscomptr
+nsieventqueue
+aeventqueue
+nscomptr
+nsieventqueueservice
+peventqservice
+dogetservice
+keventqueueservicecid
+rv
+nssucceeded
+rv
+peventqservice
+peventqservice
+getthreadeventqueue
+nscurrentthread
+getteraddrefs
+aeventqueue
+aimapurl
+nscomptr
+nsiimapprotocol
+protocolinstance
+mwaitingforconnectioninfo
+prfalse
+rv
+createimapconnection
+aeventqueue
+aimapurl
+getteraddrefs
+protocolinstance
+rv
+nsbindingaborted
+reseturlstate
+prtrue
+reseturlstate
+prtrue
+reseturlstate
+mredirectedlogonretries
+mwaitingforconnectioninfo
+prfalse
+urlqueuecnt
+mailnewsurl
+mailnewsurl
+seturlstate
+prfalse
+nsmsgerrorurlaborted
+murlqueue
+removeelementat
+murlconsumers
+removeelementat
+rv
+nsimethodimp
+nsimapincomingserver
+onlogonredirectionprogress
+nsmsglogonredirectionstate
+pstate
+nsok
+nsimethodimp
+nsimapincomingserver
+onlogonredirectionreply
+prunichar
+phost
+pport
+pcookiedata
+pcookiesize
+prbool
+urlrun
+prfalse
+nsresult
+rv
+nscomptr
+nsiimapprotocol
+imapprotocol
+nscomptr
+nsieventqueue
+aeventqueue
+nscautostring
+cookie
+pcookiedata
+pcookiesize
+nscomptr
+nsieventqueueservice
+peventqservice
+dogetservice
+keventqueueservicecid
+rv
+nssucceeded
+rv
+peventqservice
+peventqservice
+getthreadeventqueue
+nscurrentthread
+getteraddrefs
+aeventqueue
+mredirectedlogonretries
+pruint
+cnt
+murlqueue
+count
+cnt
+cnt
+nscomptr
+nsiimapurl
+aimapurl
+doqueryelementat
+murlqueue
+rv
+aimapurl
+nscomptr
+nsisupports
+aconsumer
+nsisupports
+murlconsumers
+elementat
+nscomptr
+nsiimapprotocol
+protocolinstance
+rv
+createimapconnection
+aeventqueue
+aimapurl
+getteraddrefs
+protocolinstance
+mwaitingforconnectioninfo
+prfalse
+nssucceeded
+rv
+protocolinstance
+protocolinstance
+overrideconnectioninfo
+phost
+pport
+cookie
+get
+nscomptr
+nsiuri
+url
+doqueryinterface
+aimapurl
+rv
+nssucceeded
+rv
+url
+rv
+protocolinstance
+loadurl
+url
+aconsumer
+urlrun
+prtrue
+murlqueue
+removeelementat
+murlconsumers
+removeelementat
+mwaitingforconnectioninfo
+prfalse
+nsassertion
+prfalse
+got
+redirection
+response
+with
+no
+queued
+urls
+rv
+nsresult
+nsimapincomingserver
+setdelimiterfromhierarchydelimiter
+nsresult
+rv
+nsok
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+kimapservicecid
+rv
+nsensuresuccess
+rv
+rv
+imapservice
+nserrorfailure
+nscomptr
+nsifolder
+rootfolder
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgimapmailfolder
+rootmsgfolder
+doqueryinterface
+rootfolder
+rv
+nsensuresuccess
+rv
+rv
+rootmsgfolder
+nserrorfailure
+prunichar
+delimiter
+rv
+rootmsgfolder
+gethierarchydelimiter
+delimiter
+nsensuresuccess
+rv
+rv
+ifdef
+debugseth
+printf
+setting
+delimiter
+to
+delimiter
+endif
+delimiter
+konlinehierarchyseparatorunknown
+delimiter
+ifdef
+debugseth
+printf
+no
+override
+delimiter
+to
+delimiter
+endif
+rv
+setdelimiter
+delimiter
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsimapincomingserver
+startpopulatingwithuri
+nsimsgwindow
+amsgwindow
+prbool
+aforcetoserver
+uri
+nsresult
+rv
+ifdef
+debugsspitzer
+printf
+in
+startpopulatingwithuri
+uri
+endif
+mdoingsubscribedialog
+prtrue
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+rv
+minner
+startpopulatingwithuri
+amsgwindow
+aforcetoserver
+uri
+nsensuresuccess
+rv
+rv
+rv
+setdelimiterfromhierarchydelimiter
+nsensuresuccess
+rv
+rv
+rv
+setshowfullname
+prfalse
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+serveruri
+rv
+getserveruri
+gettercopies
+serveruri
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+kimapservicecid
+rv
+nsensuresuccess
+rv
+rv
+imapservice
+nserrorfailure
+path
+uri
+strlen
+serveruri
+rv
+imapservice
+getlistoffolderswithpath
+amsgwindow
+path
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsimapincomingserver
+startpopulating
+nsimsgwindow
+amsgwindow
+prbool
+aforcetoserver
+nsresult
+rv
+ifdef
+debugsspitzer
+printf
+in
+startpopulating
+endif
+mdoingsubscribedialog
+prtrue
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+rv
+minner
+startpopulating
+amsgwindow
+aforcetoserver
+nsensuresuccess
+rv
+rv
+rv
+setdelimiterfromhierarchydelimiter
+nsensuresuccess
+rv
+rv
+rv
+setshowfullname
+prfalse
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+kimapservicecid
+rv
+nsensuresuccess
+rv
+rv
+imapservice
+nserrorfailure
+rv
+imapservice
+getlistoffoldersonserver
+amsgwindow
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsimapincomingserver
+onstartrunningurl
+nsiuri
+url
+nsok
+nsimethodimp
+nsimapincomingserver
+onstoprunningurl
+nsiuri
+url
+nsresult
+exitcode
+nsresult
+rv
+exitcode
+nscomptr
+nsimsgwindow
+msgwindow
+nscomptr
+nsiimapurl
+imapurl
+doqueryinterface
+url
+imapurl
+nsimapaction
+imapaction
+nsiimapurl
+nsimaptest
+imapurl
+getimapaction
+imapaction
+imapaction
+nsiimapurl
+nsimapdiscoverallandsubscribedboxesurl
+nsiimapurl
+nsimapdiscoverchildrenurl
+rv
+updatesubscribed
+nsfailed
+rv
+rv
+mdoingsubscribedialog
+prfalse
+rv
+stoppopulating
+msgwindow
+nsfailed
+rv
+rv
+nsiimapurl
+nsimapdiscoverallboxesurl
+discoverydone
+nsok
+nsimethodimp
+nsimapincomingserver
+setincomingserver
+nsimsgincomingserver
+aserver
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+minner
+setincomingserver
+aserver
+nsimethodimp
+nsimapincomingserver
+setshowfullname
+prbool
+showfullname
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+minner
+setshowfullname
+showfullname
+nsimethodimp
+nsimapincomingserver
+getdelimiter
+adelimiter
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+minner
+getdelimiter
+adelimiter
+nsimethodimp
+nsimapincomingserver
+setdelimiter
+adelimiter
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+minner
+setdelimiter
+adelimiter
+nsimethodimp
+nsimapincomingserver
+setassubscribed
+path
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+minner
+setassubscribed
+path
+nsimethodimp
+nsimapincomingserver
+updatesubscribed
+ifdef
+debugsspitzer
+printf
+imap
+when
+we
+populate
+endif
+nsok
+nsimethodimp
+nsimapincomingserver
+addto
+aname
+prbool
+addassubscribed
+prbool
+changeifexists
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+ptr
+aname
+prbool
+nameisclean
+prtrue
+ptr
+ptr
+nameisclean
+prfalse
+ptr
+nsassertion
+nameisclean
+folder
+path
+was
+in
+utf
+ignore
+it
+nameisclean
+nsok
+minner
+addto
+aname
+addassubscribed
+changeifexists
+nsimethodimp
+nsimapincomingserver
+stoppopulating
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+nscomptr
+nsisubscribelistener
+listener
+rv
+getsubscribelistener
+getteraddrefs
+listener
+nsfailed
+rv
+rv
+listener
+nserrorfailure
+rv
+listener
+ondonepopulating
+nsfailed
+rv
+rv
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+rv
+minner
+stoppopulating
+amsgwindow
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsimapincomingserver
+subscribecleanup
+nsresult
+rv
+msubscribefolders
+clear
+rv
+clearinner
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsimapincomingserver
+setsubscribelistener
+nsisubscribelistener
+alistener
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+minner
+setsubscribelistener
+alistener
+nsimethodimp
+nsimapincomingserver
+getsubscribelistener
+nsisubscribelistener
+alistener
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+minner
+getsubscribelistener
+alistener
+nsimethodimp
+nsimapincomingserver
+subscribe
+prunichar
+aname
+subscribetofolder
+aname
+prtrue
+nsnull
+nsimethodimp
+nsimapincomingserver
+unsubscribe
+prunichar
+aname
+subscribetofolder
+aname
+prfalse
+nsnull
+nsimethodimp
+nsimapincomingserver
+subscribetofolder
+prunichar
+aname
+prbool
+subscribe
+nsiuri
+auri
+nsresult
+rv
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+kimapservicecid
+rv
+nsfailed
+rv
+rv
+imapservice
+nserrorfailure
+nscomptr
+nsifolder
+rootfolder
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nsfailed
+rv
+rv
+nscomptr
+nsimsgfolder
+rootmsgfolder
+doqueryinterface
+rootfolder
+rv
+nsfailed
+rv
+rv
+rootmsgfolder
+nserrorfailure
+nscautostring
+foldercname
+foldercname
+appendwithconversion
+aname
+nscomptr
+nsimsgfolder
+msgfolder
+nscomptr
+nsifolder
+subfolder
+rootmsgfolder
+aname
+aname
+rv
+rootmsgfolder
+findsubfolder
+foldercname
+get
+getteraddrefs
+subfolder
+nssucceeded
+rv
+msgfolder
+doqueryinterface
+subfolder
+nscomptr
+nsieventqueue
+queue
+nscomptr
+nsieventqueueservice
+peventqservice
+dogetservice
+keventqueueservicecid
+rv
+nsfailed
+rv
+rv
+rv
+peventqservice
+getthreadeventqueue
+nscurrentthread
+getteraddrefs
+queue
+nsfailed
+rv
+rv
+nsxpidlstring
+unicodename
+createunicodestringfromutf
+foldercname
+get
+gettercopies
+unicodename
+subscribe
+rv
+imapservice
+subscribefolder
+queue
+msgfolder
+unicodename
+get
+nsnull
+auri
+rv
+imapservice
+unsubscribefolder
+queue
+msgfolder
+unicodename
+get
+nsnull
+nsnull
+nsfailed
+rv
+rv
+nsok
+nsimethodimp
+nsimapincomingserver
+setdoinglsub
+prbool
+doinglsub
+mdoinglsub
+doinglsub
+nsok
+nsimethodimp
+nsimapincomingserver
+getdoinglsub
+prbool
+doinglsub
+doinglsub
+nserrornullpointer
+doinglsub
+mdoinglsub
+nsok
+nsimethodimp
+nsimapincomingserver
+rediscoverallfolders
+nsresult
+rv
+performexpand
+nsnull
+rv
+nsimethodimp
+nsimapincomingserver
+setstate
+path
+prbool
+state
+prbool
+statechanged
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+minner
+setstate
+path
+state
+statechanged
+nsimethodimp
+nsimapincomingserver
+haschildren
+path
+prbool
+ahaschildren
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+minner
+haschildren
+path
+ahaschildren
+nsimethodimp
+nsimapincomingserver
+issubscribed
+path
+prbool
+aissubscribed
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+minner
+issubscribed
+path
+aissubscribed
+nsimethodimp
+nsimapincomingserver
+getleafname
+path
+prunichar
+aleafname
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+minner
+getleafname
+path
+aleafname
+nsimethodimp
+nsimapincomingserver
+getfirstchilduri
+path
+aresult
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+minner
+getfirstchilduri
+path
+aresult
+nsimethodimp
+nsimapincomingserver
+getchildren
+path
+nsisupportsarray
+array
+nsresult
+rv
+ensureinner
+nsensuresuccess
+rv
+rv
+minner
+getchildren
+path
+array
+nsresult
+nsimapincomingserver
+ensureinner
+nsresult
+rv
+nsok
+minner
+nsok
+minner
+docreateinstance
+ksubscribableservercid
+rv
+nsensuresuccess
+rv
+rv
+minner
+nserrorfailure
+rv
+setincomingserver
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsimapincomingserver
+clearinner
+nsresult
+rv
+nsok
+minner
+rv
+minner
+setsubscribelistener
+nsnull
+nsensuresuccess
+rv
+rv
+rv
+minner
+setincomingserver
+nsnull
+nsensuresuccess
+rv
+rv
+minner
+nsnull
+nsok
+nsimethodimp
+nsimapincomingserver
+commitsubscribechanges
+rediscoverallfolders
+nsimethodimp
+nsimapincomingserver
+getcanbedefaultserver
+prbool
+canbedefaultserver
+canbedefaultserver
+prtrue
+nsok
+nsimethodimp
+nsimapincomingserver
+getcancompactfoldersonserver
+prbool
+cancompactfoldersonserver
+nsensureargpointer
+cancompactfoldersonserver
+cancompactfoldersonserver
+prtrue
+getprefforserverattribute
+cancompactfoldersonserver
+cancompactfoldersonserver
+nsok
+nsimethodimp
+nsimapincomingserver
+getcanundodeleteonserver
+prbool
+canundodeleteonserver
+nsensureargpointer
+canundodeleteonserver
+canundodeleteonserver
+prtrue
+getprefforserverattribute
+canundodeleteonserver
+canundodeleteonserver
+nsok
+nsimethodimp
+nsimapincomingserver
+getcansearchmessages
+prbool
+cansearchmessages
+nsensureargpointer
+cansearchmessages
+cansearchmessages
+prtrue
+getprefforserverattribute
+cansearchmessages
+cansearchmessages
+nsok
+nsimethodimp
+nsimapincomingserver
+getcanemptytrashonexit
+prbool
+canemptytrashonexit
+nsensureargpointer
+canemptytrashonexit
+canemptytrashonexit
+prtrue
+getprefforserverattribute
+canemptytrashonexit
+canemptytrashonexit
+nsok
+nsimethodimp
+nsimapincomingserver
+getissecureserver
+prbool
+issecureserver
+nsensureargpointer
+issecureserver
+issecureserver
+prtrue
+getprefforserverattribute
+issecureserver
+issecureserver
+nsok
+nsresult
+nsimapincomingserver
+createhostspecificprefname
+prefprefix
+nscautostring
+prefname
+nsensureargpointer
+prefprefix
+nsxpidlcstring
+hostname
+nsresult
+rv
+gethostname
+gettercopies
+hostname
+nsensuresuccess
+rv
+rv
+prefname
+prefprefix
+prefname
+append
+prefname
+append
+hostname
+get
+nsok
+nsimethodimp
+nsimapincomingserver
+getsupportsdiskspace
+prbool
+asupportsdiskspace
+nsensureargpointer
+asupportsdiskspace
+nscautostring
+prefname
+nsresult
+rv
+createhostspecificprefname
+defaultsupportsdiskspace
+prefname
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nssucceeded
+rv
+prefbranch
+rv
+prefbranch
+getboolpref
+prefname
+get
+asupportsdiskspace
+nsfailed
+rv
+asupportsdiskspace
+prtrue
+nsok
+nsimethodimp
+nsimapincomingserver
+getnumidleconnections
+print
+anumidleconnections
+nsensureargpointer
+anumidleconnections
+anumidleconnections
+nsresult
+rv
+nsok
+nscomptr
+nsiimapprotocol
+connection
+prbool
+isbusy
+prfalse
+prbool
+isinboxconnection
+prcentermonitor
+pruint
+cnt
+rv
+mconnectioncache
+count
+cnt
+nsfailed
+rv
+rv
+pruint
+cnt
+connection
+doqueryelementat
+mconnectioncache
+connection
+rv
+connection
+isbusy
+isbusy
+isinboxconnection
+nsfailed
+rv
+isbusy
+anumidleconnections
+prcexitmonitor
+rv
+nsimethodimp
+nsimapincomingserver
+getcancreatefoldersonserver
+prbool
+acancreatefoldersonserver
+nsensureargpointer
+acancreatefoldersonserver
+acancreatefoldersonserver
+prtrue
+getprefforserverattribute
+cancreatefolders
+acancreatefoldersonserver
+nsok
+nsimethodimp
+nsimapincomingserver
+getofflinesupportlevel
+print
+asupportlevel
+nsensureargpointer
+asupportlevel
+nsresult
+rv
+nsok
+rv
+getintvalue
+offlinesupportlevel
+asupportlevel
+asupportlevel
+offlinesupportlevelundefined
+rv
+nscautostring
+prefname
+rv
+createhostspecificprefname
+defaultofflinesupportlevel
+prefname
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nssucceeded
+rv
+prefbranch
+rv
+prefbranch
+getintpref
+prefname
+get
+asupportlevel
+nsfailed
+rv
+asupportlevel
+offlinesupportlevelregular
+nsok
+nsimethodimp
+nsimapincomingserver
+generateprettynameformigration
+prunichar
+aprettyname
+nsensureargpointer
+aprettyname
+nsresult
+rv
+nsok
+nsxpidlcstring
+username
+nsxpidlcstring
+hostname
+rv
+getusername
+gettercopies
+username
+nsensuresuccess
+rv
+rv
+rv
+gethostname
+gettercopies
+hostname
+nsensuresuccess
+rv
+rv
+print
+defaultserverport
+print
+defaultsecureserverport
+nscomptr
+nsimsgprotocolinfo
+protocolinfo
+dogetservice
+messenger
+protocol
+info
+type
+imap
+rv
+nsensuresuccess
+rv
+rv
+rv
+protocolinfo
+getdefaultserverport
+prfalse
+defaultserverport
+nsensuresuccess
+rv
+rv
+rv
+protocolinfo
+getdefaultserverport
+prtrue
+defaultsecureserverport
+nsensuresuccess
+rv
+rv
+print
+serverport
+portnotset
+rv
+getport
+serverport
+nsensuresuccess
+rv
+rv
+prbool
+issecure
+prfalse
+rv
+getissecure
+issecure
+nsensuresuccess
+rv
+rv
+prbool
+isitdefaultport
+prfalse
+serverport
+defaultserverport
+issecure
+serverport
+defaultsecureserverport
+issecure
+isitdefaultport
+prtrue
+nsautostring
+constructedprettyname
+constructedprettyname
+assignwithconversion
+username
+constructedprettyname
+append
+nsliteralstring
+constructedprettyname
+appendwithconversion
+hostname
+serverport
+isitdefaultport
+constructedprettyname
+append
+nsliteralstring
+constructedprettyname
+appendint
+serverport
+rv
+getformattedstringfromid
+constructedprettyname
+get
+imapdefaultaccountname
+aprettyname
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsimapincomingserver
+getformattedstringfromid
+prunichar
+avalue
+print
+aid
+prunichar
+aresult
+nsensureargpointer
+aresult
+nsresult
+rv
+rv
+getstringbundle
+mstringbundle
+prunichar
+formatstrings
+avalue
+rv
+mstringbundle
+formatstringfromid
+aid
+formatstrings
+aresult
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsimapincomingserver
+createprefnamewithredirectortype
+prefsuffix
+nscautostring
+prefname
+nsensureargpointer
+prefsuffix
+nsxpidlcstring
+redirectortype
+nsresult
+rv
+getredirectortype
+gettercopies
+redirectortype
+nsfailed
+rv
+rv
+redirectortype
+nserrorfailure
+prefname
+assign
+imap
+prefname
+append
+redirectortype
+prefname
+append
+prefsuffix
+nsok
+nsresult
+nsimapincomingserver
+getprefforserverattribute
+prefsuffix
+prbool
+prefvalue
+nsensureargpointer
+prefsuffix
+nsresult
+rv
+nscautostring
+prefname
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nsxpidlcstring
+serverkey
+rv
+getkey
+gettercopies
+serverkey
+nsmsgincomingserver
+getprefname
+serverkey
+prefsuffix
+prefname
+rv
+prefbranch
+getboolpref
+prefname
+get
+prefvalue
+nsfailed
+rv
+nscautostring
+redirectortype
+redirectortype
+assign
+redirectortype
+append
+prefsuffix
+rv
+createprefnamewithredirectortype
+redirectortype
+get
+prefname
+nssucceeded
+rv
+rv
+prefbranch
+getboolpref
+prefname
+get
+prefvalue
+rv
+nsimethodimp
+nsimapincomingserver
+getcanfilemessagesonserver
+prbool
+acanfilemessagesonserver
+nsensureargpointer
+acanfilemessagesonserver
+acanfilemessagesonserver
+prtrue
+getprefforserverattribute
+canfilemessages
+acanfilemessagesonserver
+nsok
+nsimethodimp
+nsimapincomingserver
+setsearchvalue
+searchvalue
+nserrornotimplemented
+nsimethodimp
+nsimapincomingserver
+getsupportssubscribesearch
+prbool
+retval
+retval
+prfalse
+nsok
+nsimethodimp
+nsimapincomingserver
+getfilterscope
+nsmsgsearchscopevalue
+filterscope
+nsensureargpointer
+filterscope
+filterscope
+nsmsgsearchscope
+onlinemailfilter
+nsok
+nsimethodimp
+nsimapincomingserver
+getsearchscope
+nsmsgsearchscopevalue
+searchscope
+nsensureargpointer
+searchscope
+weareoffline
+searchscope
+nsmsgsearchscope
+offlinemail
+searchscope
+nsmsgsearchscope
+onlinemail
+nsok
+nsimethodimp
+nsimapincomingserver
+getnewmessagesfornoninboxfolders
+nsimsgfolder
+arootfolder
+nsimsgwindow
+awindow
+prbool
+forceallfolders
+prbool
+performingbiff
+nsresult
+retval
+nsok
+arootfolder
+retval
+pruint
+flags
+arootfolder
+getflags
+flags
+forceallfolders
+flags
+msgfolderflaginbox
+flags
+msgfolderflagchecknew
+arootfolder
+setgettingnewmessages
+prtrue
+performingbiff
+nsresult
+rv
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+doqueryinterface
+arootfolder
+rv
+imapfolder
+imapfolder
+setperformingbiff
+prtrue
+arootfolder
+updatefolder
+awindow
+nscomptr
+nsienumerator
+aenumerator
+retval
+arootfolder
+getsubfolders
+getteraddrefs
+aenumerator
+nsassertion
+nssucceeded
+retval
+aenumerator
+getsubfolders
+failed
+to
+enumerator
+nsfailed
+retval
+retval
+nsresult
+more
+aenumerator
+first
+nssucceeded
+more
+nscomptr
+nsisupports
+asupport
+nsresult
+rv
+aenumerator
+currentitem
+getteraddrefs
+asupport
+nsassertion
+nssucceeded
+rv
+asupport
+currentitem
+failed
+nscomptr
+nsimsgfolder
+msgfolder
+doqueryinterface
+asupport
+rv
+nsassertion
+nssucceeded
+rv
+msgfolder
+nsimsgfolder
+service
+found
+retval
+getnewmessagesfornoninboxfolders
+msgfolder
+awindow
+forceallfolders
+performingbiff
+more
+aenumerator
+next
+retval
+nsimethodimp
+nsimapincomingserver
+getarbitraryheaders
+aresult
+nscomptr
+nsimsgfilterlist
+filterlist
+nsresult
+rv
+getfilterlist
+nsnull
+getteraddrefs
+filterlist
+nsensuresuccess
+rv
+rv
+rv
+filterlist
+getarbitraryheaders
+aresult
+rv
+nsimethodimp
+nsimapincomingserver
+getshowattachmentsinline
+prbool
+aresult
+aresult
+prtrue
+nsresult
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+prefbranch
+getboolpref
+mail
+inlineattachments
+aresult
+nsok
+nsimethodimp
+nsimapincomingserver
+onuserorhostnamechanged
+oldname
+newname
+nsresult
+rv
+rv
+nsmsgincomingserver
+onuserorhostnamechanged
+oldname
+newname
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiimaphostsessionlist
+hostsessionlist
+dogetservice
+kcimaphostsessionlist
+rv
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+serverkey
+rv
+getkey
+gettercopies
+serverkey
+nsensuresuccess
+rv
+rv
+hostsessionlist
+sethaveweeverdiscoveredfoldersforhost
+serverkey
+get
+prfalse
+resetfolderstounverified
+nsnull
+nsok
+nsimethodimp
+nsimapincomingserver
+geturiwithnamespaceprefixifnecessary
+print
+namespacetype
+originaluri
+converteduri
+nsensureargpointer
+converteduri
+converteduri
+nsnull
+nsresult
+rv
+nsok
+nsxpidlcstring
+serverkey
+rv
+getkey
+gettercopies
+serverkey
+nsfailed
+rv
+rv
+nscomptr
+nsiimaphostsessionlist
+hostsessionlist
+dogetservice
+kcimaphostsessionlistcid
+rv
+nsimapnamespace
+ns
+nsnull
+rv
+hostsessionlist
+getdefaultnamespaceoftypeforhost
+serverkey
+eimapnamespacetype
+namespacetype
+ns
+ns
+nscautostring
+namespaceprefix
+ns
+getprefix
+namespaceprefix
+isempty
+namespaceprefix
+replacechar
+ns
+getdelimiter
+nscautostring
+resulturi
+originaluri
+print
+index
+resulturi
+find
+index
+resulturi
+find
+prfalse
+index
+resulturi
+find
+namespaceprefix
+get
+prfalse
+index
+index
+resulturi
+insert
+namespaceprefix
+index
+converteduri
+nscrt
+strdup
+resulturi
+get
+rv
+nsimethodimp
+nsimapincomingserver
+gettrashfoldername
+prunichar
+retval
+nsresult
+rv
+getunicharvalue
+preftrashfoldername
+retval
+nsfailed
+rv
+rv
+retval
+retval
+retval
+nsmemory
+free
+retval
+retval
+tonewunicode
+nsliteralstring
+defaulttrashfoldername
+nsok
+nsimethodimp
+nsimapincomingserver
+settrashfoldername
+prunichar
+chvalue
+nsxpidlstring
+oldtrashname
+nsresult
+rv
+gettrashfoldername
+gettercopies
+oldtrashname
+nssucceeded
+rv
+oldtrashnameutf
+createutfconvertedstringfromunicode
+oldtrashname
+oldtrashnameutf
+nscomptr
+nsimsgfolder
+oldfolder
+rv
+getfolder
+oldtrashnameutf
+getteraddrefs
+oldfolder
+nssucceeded
+rv
+oldfolder
+oldfolder
+clearflag
+msgfolderflagtrash
+prfree
+oldtrashnameutf
+setunicharvalue
+preftrashfoldername
+chvalue
+nsimethodimp
+nsimapincomingserver
+getmsgfolderfromuri
+nsimsgfolder
+afolderresource
+auri
+nsimsgfolder
+afolder
+nscomptr
+nsimsgfolder
+rootmsgfolder
+nsresult
+rv
+getrootmsgfolder
+getteraddrefs
+rootmsgfolder
+nsensuresuccess
+rv
+rv
+rootmsgfolder
+nserrorunexpected
+nscomptr
+nsimsgfolder
+msgfolder
+prbool
+namespaceprefixadded
+prfalse
+nsxpidlcstring
+folderuriwithnamespace
+geturiwithnamespaceprefixifnecessary
+kpersonalnamespace
+auri
+gettercopies
+folderuriwithnamespace
+folderuriwithnamespace
+isempty
+namespaceprefixadded
+prtrue
+rv
+rootmsgfolder
+getchildwithuri
+folderuriwithnamespace
+prtrue
+prfalse
+getteraddrefs
+msgfolder
+rv
+rootmsgfolder
+getchildwithuri
+auri
+prtrue
+prfalse
+getteraddrefs
+msgfolder
+nsfailed
+rv
+msgfolder
+namespaceprefixadded
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+rdf
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+resource
+rv
+rdf
+getresource
+folderuriwithnamespace
+getteraddrefs
+resource
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgfolder
+folderresource
+folderresource
+doqueryinterface
+resource
+rv
+nsensuresuccess
+rv
+rv
+msgfolder
+afolderresource
+nsifaddref
+afolder
+msgfolder
+nsok
+nsimethodimp
+nsimapincomingserver
+crammdhash
+decodedchallenge
+key
+result
+resultdigest
+digestlength
+nsresult
+rv
+msgcrammd
+decodedchallenge
+strlen
+decodedchallenge
+key
+strlen
+key
+resultdigest
+nsensuresuccess
+rv
+rv
+result
+malloc
+digestlength
+result
+memcpy
+result
+resultdigest
+digestlength
+result
+nsok
+nserroroutofmemory
\ No newline at end of file
@@ -0,0 +1,1625 @@
+msgcore
+netcore
+nsimapofflinesync
+nsimapmailfolder
+nsmsgfolderflags
+nsxpidlstring
+nsirdfservice
+nsmsgbasecid
+nsrdfcid
+nsimsgaccountmanager
+nsinntpincomingserver
+nsirequestobserver
+nsspecialsystemdirectory
+nsifilestream
+nsimsgcopyservice
+nsdefinecid
+krdfservicecid
+nsrdfservicecid
+nsimplisupports
+nsimapofflinesync
+nsiurllistener
+nsimsgcopyservicelistener
+nsimapofflinesync
+nsimapofflinesync
+nsimsgwindow
+window
+nsiurllistener
+listener
+nsimsgfolder
+singlefolderonly
+msinglefoldertoupdate
+singlefolderonly
+mwindow
+window
+mwindow
+mwindow
+setstopped
+prfalse
+mcurrentplaybackoptype
+nsimsgofflineimapoperation
+kflagschanged
+mmailboxupdatesstarted
+prfalse
+mmailboxupdatesfinished
+prfalse
+mcreatedofflinefolders
+prfalse
+mpseudooffline
+prfalse
+mkeyindex
+mcurrentuidvalidity
+nsmsgkeynone
+mlistener
+listener
+nsimapofflinesync
+nsimapofflinesync
+nsimapofflinesync
+setwindow
+nsimsgwindow
+window
+mwindow
+window
+nsimethodimp
+nsimapofflinesync
+onstartrunningurl
+nsiuri
+url
+nsok
+nsimethodimp
+nsimapofflinesync
+onstoprunningurl
+nsiuri
+url
+nsresult
+exitcode
+nsresult
+rv
+exitcode
+prbool
+stopped
+prfalse
+mwindow
+mwindow
+getstopped
+stopped
+stopped
+exitcode
+nsbindingaborted
+mcurtempfile
+mcurtempfile
+delete
+prfalse
+mcurtempfile
+nsnull
+nssucceeded
+exitcode
+rv
+processnextoperation
+exitcode
+nsbindingaborted
+msinglefoldertoupdate
+rv
+advancetonextfolder
+mlistener
+mlistener
+onstoprunningurl
+url
+exitcode
+rv
+nsresult
+nsimapofflinesync
+advancetonextserver
+nsresult
+rv
+mallservers
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsassertion
+accountmanager
+nssucceeded
+rv
+couldn
+get
+account
+mgr
+accountmanager
+nsfailed
+rv
+rv
+rv
+accountmanager
+getallservers
+getteraddrefs
+mallservers
+nsensuresuccess
+rv
+rv
+pruint
+serverindex
+mcurrentserver
+mallservers
+indexof
+mcurrentserver
+mcurrentserver
+nsnull
+pruint
+numservers
+mallservers
+count
+numservers
+nscomptr
+nsifolder
+rootfolder
+serverindex
+numservers
+nscomptr
+nsisupports
+serversupports
+getteraddrefs
+mallservers
+elementat
+serverindex
+serverindex
+nscomptr
+nsimsgincomingserver
+server
+doqueryinterface
+serversupports
+nscomptr
+nsinntpincomingserver
+newsserver
+doqueryinterface
+server
+newsserver
+server
+mcurrentserver
+server
+server
+getrootfolder
+getteraddrefs
+rootfolder
+rootfolder
+nsnewisupportsarray
+getteraddrefs
+mallfolders
+rv
+rootfolder
+listdescendents
+mallfolders
+nssucceeded
+rv
+mallfolders
+enumerate
+getteraddrefs
+mserverenumerator
+nssucceeded
+rv
+mserverenumerator
+rv
+mserverenumerator
+first
+nssucceeded
+rv
+rv
+nsresult
+nsimapofflinesync
+advancetonextfolder
+nsresult
+rv
+mcurrentplaybackoptype
+nsimsgofflineimapoperation
+kflagschanged
+mcurrentfolder
+nsnull
+mcurrentserver
+rv
+advancetonextserver
+rv
+mserverenumerator
+next
+nsfailed
+rv
+rv
+advancetonextserver
+nssucceeded
+rv
+mserverenumerator
+nscomptr
+nsisupports
+supports
+rv
+mserverenumerator
+currentitem
+getteraddrefs
+supports
+mcurrentfolder
+doqueryinterface
+supports
+rv
+nsimapofflinesync
+advancetofirstimapfolder
+nsresult
+rv
+mcurrentserver
+nsnull
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+rv
+advancetonextfolder
+mcurrentfolder
+imapfolder
+doqueryinterface
+mcurrentfolder
+nssucceeded
+rv
+mcurrentfolder
+imapfolder
+nsimapofflinesync
+processflagoperation
+nsimsgofflineimapoperation
+currentop
+nsmsgkeyarray
+matchingflagkeys
+pruint
+currentkeyindex
+mkeyindex
+imapmessageflagstype
+matchingflags
+currentop
+getnewflags
+matchingflags
+imapmessageflagstype
+flagoperation
+imapmessageflagstype
+newflags
+nsmsgkey
+curkey
+currentop
+getmessagekey
+curkey
+matchingflagkeys
+add
+curkey
+currentop
+clearoperation
+nsimsgofflineimapoperation
+kflagschanged
+currentop
+nsnull
+currentkeyindex
+mcurrentkeys
+getsize
+mcurrentdb
+getofflineopforkey
+mcurrentkeys
+currentkeyindex
+prfalse
+currentop
+currentop
+currentop
+getflagoperation
+flagoperation
+currentop
+getnewflags
+newflags
+currentop
+flagoperation
+nsimsgofflineimapoperation
+kflagschanged
+newflags
+matchingflags
+currentop
+nsnull
+matchingflagkeys
+getsize
+nscautostring
+uids
+nsimapmailfolder
+allocateuidstringfromkeys
+matchingflagkeys
+getarray
+matchingflagkeys
+getsize
+uids
+pruint
+curfolderflags
+mcurrentfolder
+getflags
+curfolderflags
+uids
+get
+curfolderflags
+msgfolderflagimapbox
+nsresult
+rv
+nsok
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+doqueryinterface
+mcurrentfolder
+nscomptr
+nsiuri
+uritosetflags
+imapfolder
+rv
+imapfolder
+setimapflags
+uids
+get
+matchingflags
+getteraddrefs
+uritosetflags
+nssucceeded
+rv
+uritosetflags
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+uritosetflags
+mailnewsurl
+mailnewsurl
+registerlistener
+processnextoperation
+nsimapofflinesync
+processappendmsgoperation
+nsimsgofflineimapoperation
+currentop
+print
+optype
+nscomptr
+nsimsgdbhdr
+mailhdr
+nsmsgkey
+msgkey
+currentop
+getmessagekey
+msgkey
+nsresult
+rv
+mcurrentdb
+getmsghdrforkey
+msgkey
+getteraddrefs
+mailhdr
+nssucceeded
+rv
+mailhdr
+nsmsgkey
+messageoffset
+pruint
+messagesize
+mailhdr
+getmessageoffset
+messageoffset
+mailhdr
+getofflinemessagesize
+messagesize
+nscomptr
+nsifilespec
+tempfilespec
+nsspecialsystemdirectory
+tmpfilespec
+nsspecialsystemdirectory
+ostemporarydirectory
+tmpfilespec
+nscpmsg
+txt
+tmpfilespec
+makeunique
+rv
+nsnewfilespecwithspec
+tmpfilespec
+getteraddrefs
+tempfilespec
+tempfilespec
+nscomptr
+nsioutputstream
+outputstream
+rv
+tempfilespec
+getoutputstream
+getteraddrefs
+outputstream
+nssucceeded
+rv
+outputstream
+nsxpidlcstring
+movedestination
+currentop
+getdestinationfolderuri
+gettercopies
+movedestination
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+krdfservicecid
+rv
+nscomptr
+nsirdfresource
+res
+nsfailed
+rv
+rv
+rdf
+getresource
+movedestination
+getteraddrefs
+res
+nssucceeded
+rv
+nscomptr
+nsimsgfolder
+destfolder
+doqueryinterface
+res
+rv
+nssucceeded
+rv
+destfolder
+nscomptr
+nsiinputstream
+offlinestoreinputstream
+rv
+destfolder
+getofflinestoreinputstream
+getteraddrefs
+offlinestoreinputstream
+nssucceeded
+rv
+offlinestoreinputstream
+nscomptr
+nsirandomaccessstore
+seekstream
+doqueryinterface
+offlinestoreinputstream
+nsassertion
+seekstream
+non
+seekable
+stream
+can
+read
+from
+offline
+msg
+seekstream
+rv
+seekstream
+seek
+prseekset
+messageoffset
+nssucceeded
+rv
+print
+inputbuffersize
+inputbuffer
+nsnull
+inputbuffer
+inputbuffersize
+inputbuffer
+prmalloc
+inputbuffersize
+inputbuffer
+inputbuffersize
+print
+bytesleft
+pruint
+bytesread
+byteswritten
+bytesleft
+messagesize
+rv
+nsok
+bytesleft
+nssucceeded
+rv
+print
+bytestoread
+prmin
+inputbuffersize
+bytesleft
+rv
+offlinestoreinputstream
+read
+inputbuffer
+bytestoread
+bytesread
+nssucceeded
+rv
+bytesread
+rv
+outputstream
+write
+inputbuffer
+bytesread
+byteswritten
+nsassertion
+byteswritten
+bytesread
+wrote
+out
+correct
+number
+of
+bytes
+bytesleft
+bytesread
+outputstream
+flush
+tempfilespec
+closestream
+nssucceeded
+rv
+mcurtempfile
+tempfilespec
+nscomptr
+nsimsgcopyservice
+copyservice
+dogetservice
+nsmsgcopyservicecontractid
+copyservice
+rv
+copyservice
+copyfilemessage
+tempfilespec
+destfolder
+nsnull
+prtrue
+mwindow
+mcurtempfile
+delete
+prfalse
+currentop
+clearoperation
+nsimsgofflineimapoperation
+kappenddraft
+mcurrentdb
+deleteheader
+mailhdr
+nsnull
+prtrue
+prtrue
+tempfilespec
+closestream
+nsimapofflinesync
+processmoveoperation
+nsimsgofflineimapoperation
+currentop
+nsmsgkeyarray
+matchingflagkeys
+pruint
+currentkeyindex
+mkeyindex
+nsxpidlcstring
+movedestination
+currentop
+getdestinationfolderuri
+gettercopies
+movedestination
+prbool
+movematches
+prtrue
+movematches
+nsmsgkey
+curkey
+currentop
+getmessagekey
+curkey
+matchingflagkeys
+add
+curkey
+currentop
+clearoperation
+nsimsgofflineimapoperation
+kmsgmoved
+currentop
+nsnull
+currentkeyindex
+mcurrentkeys
+getsize
+nsxpidlcstring
+nextdestination
+nsresult
+rv
+mcurrentdb
+getofflineopforkey
+mcurrentkeys
+currentkeyindex
+prfalse
+currentop
+movematches
+prfalse
+nssucceeded
+rv
+currentop
+nsofflineimapoperationtype
+optype
+currentop
+getoperation
+optype
+optype
+nsimsgofflineimapoperation
+kmsgmoved
+currentop
+getdestinationfolderuri
+gettercopies
+nextdestination
+movematches
+nscrt
+strcmp
+movedestination
+nextdestination
+currentop
+nsresult
+rv
+nscomptr
+nsirdfresource
+res
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+krdfservicecid
+rv
+nsfailed
+rv
+rv
+rdf
+getresource
+movedestination
+getteraddrefs
+res
+nssucceeded
+rv
+nscomptr
+nsimsgfolder
+destfolder
+doqueryinterface
+res
+rv
+nssucceeded
+rv
+destfolder
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+doqueryinterface
+mcurrentfolder
+imapfolder
+destfolderonsameserver
+destfolder
+rv
+imapfolder
+replayofflinemovecopy
+matchingflagkeys
+getarray
+matchingflagkeys
+getsize
+prtrue
+destfolder
+mwindow
+nscomptr
+nsisupportsarray
+messages
+docreateinstance
+nssupportsarraycontractid
+rv
+messages
+nssucceeded
+rv
+nsnewisupportsarray
+getteraddrefs
+messages
+pruint
+keyindex
+keyindex
+matchingflagkeys
+getsize
+keyindex
+nscomptr
+nsimsgdbhdr
+mailhdr
+nsnull
+rv
+mcurrentfolder
+getmessageheader
+matchingflagkeys
+elementat
+keyindex
+getteraddrefs
+mailhdr
+nssucceeded
+rv
+mailhdr
+nscomptr
+nsisupports
+isupports
+isupports
+doqueryinterface
+mailhdr
+messages
+appendelement
+isupports
+nscomptr
+nsimsgcopyservice
+copyservice
+dogetservice
+nsmsgcopyservicecontractid
+rv
+copyservice
+copyservice
+copymessages
+mcurrentfolder
+messages
+destfolder
+prtrue
+mwindow
+prfalse
+prbool
+nsimapofflinesync
+destfolderonsameserver
+nsimsgfolder
+destfolder
+nscomptr
+nsimsgincomingserver
+srcserver
+nscomptr
+nsimsgincomingserver
+dstserver
+prbool
+sameserver
+prfalse
+nssucceeded
+mcurrentfolder
+getserver
+getteraddrefs
+srcserver
+nssucceeded
+destfolder
+getserver
+getteraddrefs
+dstserver
+dstserver
+equals
+srcserver
+sameserver
+sameserver
+nsimapofflinesync
+processcopyoperation
+nsimsgofflineimapoperation
+currentop
+nsmsgkeyarray
+matchingflagkeys
+pruint
+currentkeyindex
+mkeyindex
+nsxpidlcstring
+copydestination
+currentop
+getcopydestination
+gettercopies
+copydestination
+prbool
+copymatches
+prtrue
+copymatches
+nsmsgkey
+curkey
+currentop
+getmessagekey
+curkey
+matchingflagkeys
+add
+curkey
+currentop
+clearoperation
+nsimsgofflineimapoperation
+kmsgcopy
+currentop
+nsnull
+currentkeyindex
+mcurrentkeys
+getsize
+nsxpidlcstring
+nextdestination
+nsresult
+rv
+mcurrentdb
+getofflineopforkey
+mcurrentkeys
+currentkeyindex
+prfalse
+currentop
+copymatches
+prfalse
+nssucceeded
+rv
+currentop
+nsofflineimapoperationtype
+optype
+currentop
+getoperation
+optype
+optype
+nsimsgofflineimapoperation
+kmsgcopy
+currentop
+getcopydestination
+gettercopies
+nextdestination
+copymatches
+nscrt
+strcmp
+copydestination
+nextdestination
+currentop
+nscautostring
+uids
+nsresult
+rv
+nscomptr
+nsirdfresource
+res
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+krdfservicecid
+rv
+nsfailed
+rv
+rv
+rdf
+getresource
+copydestination
+getteraddrefs
+res
+nssucceeded
+rv
+nscomptr
+nsimsgfolder
+destfolder
+doqueryinterface
+res
+rv
+nssucceeded
+rv
+destfolder
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+doqueryinterface
+mcurrentfolder
+imapfolder
+destfolderonsameserver
+destfolder
+rv
+imapfolder
+replayofflinemovecopy
+matchingflagkeys
+getarray
+matchingflagkeys
+getsize
+prfalse
+destfolder
+mwindow
+nscomptr
+nsisupportsarray
+messages
+docreateinstance
+nssupportsarraycontractid
+rv
+messages
+nssucceeded
+rv
+nsnewisupportsarray
+getteraddrefs
+messages
+pruint
+keyindex
+keyindex
+matchingflagkeys
+getsize
+keyindex
+nscomptr
+nsimsgdbhdr
+mailhdr
+nsnull
+rv
+mcurrentfolder
+getmessageheader
+matchingflagkeys
+elementat
+keyindex
+getteraddrefs
+mailhdr
+nssucceeded
+rv
+mailhdr
+nscomptr
+nsisupports
+isupports
+isupports
+doqueryinterface
+mailhdr
+messages
+appendelement
+isupports
+nscomptr
+nsimsgcopyservice
+copyservice
+dogetservice
+nsmsgcopyservicecontractid
+rv
+copyservice
+copyservice
+copymessages
+mcurrentfolder
+messages
+destfolder
+prfalse
+mwindow
+prfalse
+nsimapofflinesync
+processemptytrash
+nsimsgofflineimapoperation
+currentop
+mcurrentfolder
+emptytrash
+mwindow
+mcurrentdb
+nsnull
+prbool
+nsimapofflinesync
+createofflinefolders
+mcurrentfolder
+pruint
+flags
+mcurrentfolder
+getflags
+flags
+prbool
+offlinecreate
+flags
+msgfolderflagcreatedoffline
+offlinecreate
+createofflinefolder
+mcurrentfolder
+prtrue
+advancetonextfolder
+prfalse
+prbool
+nsimapofflinesync
+createofflinefolder
+nsimsgfolder
+folder
+nscomptr
+nsifolder
+parent
+folder
+getparent
+getteraddrefs
+parent
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+doqueryinterface
+parent
+nscomptr
+nsiuri
+createfolderuri
+nsxpidlcstring
+onlinename
+imapfolder
+getonlinename
+gettercopies
+onlinename
+nsconvertasciitoucs
+foldername
+onlinename
+nsresult
+rv
+imapfolder
+playbackofflinefoldercreate
+foldername
+get
+nsnull
+getteraddrefs
+createfolderuri
+createfolderuri
+nssucceeded
+rv
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+createfolderuri
+mailnewsurl
+mailnewsurl
+registerlistener
+nssucceeded
+rv
+prtrue
+prfalse
+print
+nsimapofflinesync
+getcurrentuidvalidity
+mcurrentfolder
+nscomptr
+nsiimapmailfoldersink
+imapfoldersink
+doqueryinterface
+mcurrentfolder
+imapfoldersink
+imapfoldersink
+getuidvalidity
+mcurrentuidvalidity
+mcurrentuidvalidity
+nsresult
+nsimapofflinesync
+processnextoperation
+nsresult
+rv
+nsok
+nsimsgfolder
+deletedallofflineeventsinfolder
+nsnull
+mcreatedofflinefolders
+msinglefoldertoupdate
+mpseudooffline
+advancetofirstimapfolder
+createofflinefolders
+nsok
+createofflinefolders
+nsok
+advancetofirstimapfolder
+mcreatedofflinefolders
+prtrue
+msinglefoldertoupdate
+mcurrentfolder
+msinglefoldertoupdate
+pruint
+folderflags
+nscomptr
+nsidbfolderinfo
+folderinfo
+mcurrentfolder
+mcurrentdb
+mcurrentfolder
+getflags
+folderflags
+folderflags
+msgfolderflagofflineevents
+msgfolderflagoffline
+mcurrentfolder
+getdbfolderinfoanddb
+getteraddrefs
+folderinfo
+getteraddrefs
+mcurrentdb
+mcurrentdb
+mcurrentkeys
+removeall
+mkeyindex
+mcurrentdb
+listallofflineopids
+mcurrentkeys
+mcurrentkeys
+getsize
+mcurrentdb
+nsnull
+mcurrentfolder
+clearflag
+msgfolderflagofflineevents
+prbool
+deletedghostmsgs
+prfalse
+pruint
+fakeindex
+fakeindex
+mcurrentkeys
+getsize
+fakeindex
+nscomptr
+nsimsgofflineimapoperation
+currentop
+mcurrentdb
+getofflineopforkey
+mcurrentkeys
+fakeindex
+prfalse
+getteraddrefs
+currentop
+currentop
+nsofflineimapoperationtype
+optype
+currentop
+getoperation
+optype
+optype
+nsimsgofflineimapoperation
+kmoveresult
+nsmsgkey
+curkey
+currentop
+getmessagekey
+curkey
+mcurrentdb
+removeofflineop
+currentop
+deletedghostmsgs
+prtrue
+nscomptr
+nsimsgdbhdr
+mailhdr
+mcurrentdb
+deletemessage
+curkey
+nsnull
+prfalse
+deletedghostmsgs
+mcurrentfolder
+summarychanged
+mcurrentkeys
+removeall
+mcurrentdb
+listallofflineopids
+mcurrentkeys
+mcurrentkeys
+getsize
+mcurrentdb
+nsnull
+deletedghostmsgs
+deletedallofflineeventsinfolder
+mcurrentfolder
+folderflags
+msgfolderflagimapbox
+mpseudooffline
+setcurrentuidvalidity
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+doqueryinterface
+mcurrentfolder
+rv
+imapfolder
+rv
+imapfolder
+liteselect
+rv
+mcurrentdb
+msinglefoldertoupdate
+advancetonextfolder
+mcurrentfolder
+nsnull
+mcurrentfolder
+mcurrentfolder
+getflags
+folderflags
+mcurrentdb
+prbool
+currentfolderfinished
+prfalse
+folderinfo
+mcurrentdb
+getdbfolderinfo
+getteraddrefs
+folderinfo
+folderinfo
+mkeyindex
+mcurrentkeys
+getsize
+mpseudooffline
+getcurrentuidvalidity
+folderflags
+msgfolderflagimapbox
+print
+curfolderuidvalidity
+folderinfo
+getimapuidvalidity
+curfolderuidvalidity
+prbool
+uidvaliditychanged
+mpseudooffline
+folderflags
+msgfolderflagimapbox
+getcurrentuidvalidity
+curfolderuidvalidity
+nsimsgofflineimapoperation
+currentop
+nsnull
+uidvaliditychanged
+deleteallofflineopsforcurrentdb
+mcurrentdb
+getofflineopforkey
+mcurrentkeys
+mkeyindex
+prfalse
+currentop
+currentop
+nsofflineimapoperationtype
+optype
+currentop
+currentop
+getoperation
+optype
+currentop
+optype
+mcurrentplaybackoptype
+currentop
+nsnull
+mkeyindex
+mkeyindex
+mcurrentkeys
+getsize
+mcurrentdb
+getofflineopforkey
+mcurrentkeys
+mkeyindex
+prfalse
+currentop
+currentop
+currentop
+getoperation
+optype
+currentop
+mcurrentplaybackoptype
+nsimsgofflineimapoperation
+kflagschanged
+mcurrentplaybackoptype
+nsimsgofflineimapoperation
+kmsgcopy
+mkeyindex
+processnextoperation
+mcurrentplaybackoptype
+nsimsgofflineimapoperation
+kmsgcopy
+mcurrentplaybackoptype
+nsimsgofflineimapoperation
+kmsgmoved
+mkeyindex
+processnextoperation
+mcurrentplaybackoptype
+nsimsgofflineimapoperation
+kmsgmoved
+mcurrentplaybackoptype
+nsimsgofflineimapoperation
+kappenddraft
+mkeyindex
+processnextoperation
+mcurrentplaybackoptype
+nsimsgofflineimapoperation
+kappenddraft
+mcurrentplaybackoptype
+nsimsgofflineimapoperation
+kappendtemplate
+mkeyindex
+processnextoperation
+mcurrentplaybackoptype
+nsimsgofflineimapoperation
+kappendtemplate
+mcurrentplaybackoptype
+nsimsgofflineimapoperation
+kdeleteallmsgs
+mkeyindex
+processnextoperation
+deleteallofflineopsforcurrentdb
+currentfolderfinished
+prtrue
+mcurrentplaybackoptype
+nsimsgofflineimapoperation
+kflagschanged
+processflagoperation
+currentop
+mcurrentplaybackoptype
+nsimsgofflineimapoperation
+kmsgcopy
+processcopyoperation
+currentop
+mcurrentplaybackoptype
+nsimsgofflineimapoperation
+kmsgmoved
+processmoveoperation
+currentop
+mcurrentplaybackoptype
+nsimsgofflineimapoperation
+kappenddraft
+processappendmsgoperation
+currentop
+nsimsgofflineimapoperation
+kappenddraft
+mcurrentplaybackoptype
+nsimsgofflineimapoperation
+kappendtemplate
+processappendmsgoperation
+currentop
+nsimsgofflineimapoperation
+kappendtemplate
+mcurrentplaybackoptype
+nsimsgofflineimapoperation
+kdeleteallmsgs
+processemptytrash
+currentop
+nsassertion
+prfalse
+invalid
+playback
+op
+type
+currentop
+nsnull
+currentfolderfinished
+prtrue
+currentfolderfinished
+prtrue
+currentfolderfinished
+mcurrentdb
+nsnull
+msinglefoldertoupdate
+advancetonextfolder
+processnextoperation
+nsok
+mcurrentfolder
+nsnull
+mcurrentfolder
+mmailboxupdatesstarted
+mmailboxupdatesstarted
+prtrue
+msinglefoldertoupdate
+advancetofirstimapfolder
+msinglefoldertoupdate
+msinglefoldertoupdate
+clearflag
+msgfolderflagofflineevents
+msinglefoldertoupdate
+updatefolder
+mwindow
+ifdef
+debugbienvenu
+printf
+done
+with
+offline
+imap
+sync
+endif
+nscomptr
+nsiurllistener
+savelistener
+mlistener
+mlistener
+nsnull
+savelistener
+savelistener
+onstoprunningurl
+nsnull
+rv
+rv
+nsimapofflinesync
+deleteallofflineopsforcurrentdb
+mkeyindex
+nscomptr
+nsimsgofflineimapoperation
+currentop
+mcurrentdb
+getofflineopforkey
+mcurrentkeys
+mkeyindex
+prfalse
+getteraddrefs
+currentop
+currentop
+mcurrentdb
+removeofflineop
+currentop
+mcurrentdb
+commit
+nsmsgdbcommittype
+klargecommit
+currentop
+nsnull
+mkeyindex
+mcurrentkeys
+getsize
+mcurrentdb
+getofflineopforkey
+mcurrentkeys
+mkeyindex
+prfalse
+getteraddrefs
+currentop
+mcurrentfolder
+mcurrentfolder
+clearflag
+msgfolderflagofflineevents
+nsimapofflinedownloader
+nsimapofflinedownloader
+nsimsgwindow
+amsgwindow
+nsiurllistener
+alistener
+nsimapofflinesync
+amsgwindow
+alistener
+nsimapofflinedownloader
+nsimapofflinedownloader
+nsresult
+nsimapofflinedownloader
+processnextoperation
+nsresult
+rv
+nsok
+mmailboxupdatesstarted
+mmailboxupdatesstarted
+prtrue
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsisupportsarray
+servers
+rv
+accountmanager
+getallservers
+getteraddrefs
+servers
+nsfailed
+rv
+rv
+mmailboxupdatesfinished
+advancetonextserver
+mcurrentserver
+nscomptr
+nsifolder
+rootfolder
+mcurrentserver
+getrootfolder
+getteraddrefs
+rootfolder
+nscomptr
+nsimsgfolder
+inbox
+rootfolder
+nscomptr
+nsimsgfolder
+rootmsgfolder
+doqueryinterface
+rootfolder
+rv
+rootmsgfolder
+pruint
+numfolders
+rootmsgfolder
+getfolderswithflag
+msgfolderflaginbox
+numfolders
+getteraddrefs
+inbox
+inbox
+nscomptr
+nsimsgfolder
+offlineimapfolder
+nscomptr
+nsimsgimapmailfolder
+imapinbox
+doqueryinterface
+inbox
+imapinbox
+rootmsgfolder
+getfolderswithflag
+msgfolderflagoffline
+numfolders
+getteraddrefs
+offlineimapfolder
+offlineimapfolder
+nscomptr
+nsiimapincomingserver
+imapserver
+doqueryinterface
+mcurrentserver
+imapserver
+prbool
+downloadbodiesongetnewmail
+prfalse
+imapserver
+getdownloadbodiesongetnewmail
+downloadbodiesongetnewmail
+downloadbodiesongetnewmail
+offlineimapfolder
+inbox
+imapinbox
+offlineimapfolder
+rv
+inbox
+getnewmessages
+mwindow
+nssucceeded
+rv
+rv
+processnextoperation
+mallservers
+nsnull
+mmailboxupdatesfinished
+prtrue
+advancetonextfolder
+mcurrentfolder
+pruint
+folderflags
+mcurrentdb
+nsnull
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+mcurrentfolder
+imapfolder
+doqueryinterface
+mcurrentfolder
+mcurrentfolder
+getflags
+folderflags
+imapfolder
+folderflags
+msgfolderflagoffline
+rv
+mcurrentfolder
+downloadallforoffline
+mwindow
+nssucceeded
+rv
+rv
+nsbindingaborted
+rv
+advancetonextfolder
+mlistener
+mlistener
+onstoprunningurl
+nsnull
+nsok
+rv
+nsimethodimp
+nsimapofflinesync
+onstartcopy
+nserrornotimplemented
+nsimethodimp
+nsimapofflinesync
+onprogress
+pruint
+aprogress
+pruint
+aprogressmax
+nserrornotimplemented
+nsimethodimp
+nsimapofflinesync
+setmessagekey
+pruint
+akey
+nserrornotimplemented
+nsimethodimp
+nsimapofflinesync
+getmessageid
+nscstring
+amessageid
+nserrornotimplemented
+nsimethodimp
+nsimapofflinesync
+onstopcopy
+nsresult
+astatus
+onstoprunningurl
+nsnull
+astatus
\ No newline at end of file
@@ -0,0 +1,7886 @@
+msgcore
+nsmsgimapcid
+netcore
+nsiservicemanager
+nsicomponentmanager
+nsiimaphostsessionlist
+nsimapservice
+nsimapurl
+nscomptr
+nsimsgfolder
+nsimsgimapmailfolder
+nsiimapincomingserver
+nsiimapserversink
+nsiimapmockchannel
+nsimaputils
+nsidocshell
+nsidocshellloadinfo
+nsirdfservice
+nsieventqueueservice
+nsxpidlstring
+nsreadableutils
+nsrdfcid
+nsescape
+nsimsgstatusfeedback
+nsiprefbranch
+nsiprefservice
+nsiloadgroup
+nsimsgaccountmanager
+nsmsgbasecid
+nsmsgfolderflags
+nsisubscribableserver
+nsidirectoryservice
+nsappdirectoryservicedefs
+nsiwebnavigation
+nsimapstringbundle
+plbase
+nsimapofflinesync
+nsimsghdr
+nsmsgutils
+nsicacheservice
+nsistreamlistenertee
+nsnetcid
+nsmsgutfutils
+nsioutputstream
+nsiinputstream
+nsicopymsgstreamlistener
+nsifilestream
+nsimsgparsemailmsgstate
+nsmsglinebuffer
+nsmsglocalcid
+nsioutputstream
+nsidocshell
+nsidocshellloadinfo
+nsidomwindowinternal
+nsimessengerwindowservice
+nsiwindowmediator
+nsiprompt
+nsiwindowwatcher
+nsimapprotocol
+nsimsgmailsession
+nsistreamconverterservice
+define
+prefmailrootimap
+mail
+root
+imap
+nsdefinecid
+krdfservicecid
+nsrdfservicecid
+nsdefinecid
+keventqueueservicecid
+nseventqueueservicecid
+nsdefinecid
+kimapurlcid
+nsimapurlcid
+nsdefinecid
+kcacheservicecid
+nscacheservicecid
+sequencestring
+sequence
+uidstring
+uid
+prbool
+ginitialized
+prfalse
+print
+gmimeondemandthreshold
+prbool
+gmimeondemand
+prfalse
+nsimplthreadsafeaddref
+nsimapservice
+nsimplthreadsaferelease
+nsimapservice
+nsimplqueryinterface
+nsimapservice
+nsiimapservice
+nsimsgmessageservice
+nsiprotocolhandler
+nsimsgprotocolinfo
+nsimsgmessagefetchpartservice
+nsicontenthandler
+nsimapservice
+nsimapservice
+mprintingoperation
+prfalse
+ginitialized
+nsresult
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nssucceeded
+rv
+prefbranch
+prefbranch
+getboolpref
+mail
+imap
+mimepartsondemand
+gmimeondemand
+prefbranch
+getintpref
+mail
+imap
+mimepartsondemandthreshold
+gmimeondemandthreshold
+ginitialized
+prtrue
+nsimapservice
+nsimapservice
+prunichar
+nsimapservice
+gethierarchydelimiter
+nsimsgfolder
+amsgfolder
+prunichar
+delimiter
+amsgfolder
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+doqueryinterface
+amsgfolder
+imapfolder
+imapfolder
+gethierarchydelimiter
+delimiter
+delimiter
+nsresult
+nsimapservice
+getfoldername
+nsimsgfolder
+aimapfolder
+foldername
+nsresult
+rv
+nscomptr
+nsimsgimapmailfolder
+afolder
+doqueryinterface
+aimapfolder
+rv
+nsfailed
+rv
+rv
+nsxpidlcstring
+onlinename
+rv
+afolder
+getonlinename
+gettercopies
+onlinename
+nsfailed
+rv
+rv
+onlinename
+isempty
+uri
+nsnull
+rv
+aimapfolder
+geturi
+uri
+nsfailed
+rv
+rv
+hostname
+nsnull
+rv
+aimapfolder
+gethostname
+hostname
+nsfailed
+rv
+rv
+rv
+nsimapurifullname
+kimaprooturi
+hostname
+uri
+gettercopies
+onlinename
+prfreeif
+uri
+prfreeif
+hostname
+prbool
+escapeslashes
+gethierarchydelimiter
+aimapfolder
+prunichar
+escapeslashes
+onlinename
+escapedonlinename
+rv
+nsimapurl
+escapeslashes
+onlinename
+escapedonlinename
+nssucceeded
+rv
+onlinename
+adopt
+escapedonlinename
+foldername
+nsescape
+onlinename
+urlpath
+rv
+nsimethodimp
+nsimapservice
+selectfolder
+nsieventqueue
+aclienteventqueue
+nsimsgfolder
+aimapmailfolder
+nsiurllistener
+aurllistener
+nsimsgwindow
+amsgwindow
+nsiuri
+aurl
+nsassertion
+aimapmailfolder
+aclienteventqueue
+oops
+pointer
+aimapmailfolder
+aclienteventqueue
+nserrornullpointer
+weareoffline
+nsmsgerroroffline
+prbool
+canopenthisfolder
+prtrue
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+doqueryinterface
+aimapmailfolder
+imapfolder
+imapfolder
+getcaniopenthisfolder
+canopenthisfolder
+canopenthisfolder
+nsok
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+nsresult
+rv
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+aimapmailfolder
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+aimapmailfolder
+aurllistener
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+imapurl
+rv
+imapurl
+setimapaction
+nsiimapurl
+nsimapselectfolder
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+imapurl
+amsgwindow
+mailnewsurl
+setsuppresserrormsgs
+prtrue
+mailnewsurl
+setmsgwindow
+amsgwindow
+mailnewsurl
+setupdatingfolder
+prtrue
+imapurl
+addchanneltoloadgroup
+rv
+setimapurlsink
+aimapmailfolder
+imapurl
+nssucceeded
+rv
+nsxpidlcstring
+foldername
+getfoldername
+aimapmailfolder
+gettercopies
+foldername
+urlspec
+append
+select
+urlspec
+append
+hierarchyseparator
+urlspec
+append
+foldername
+rv
+mailnewsurl
+setspec
+urlspec
+nssucceeded
+rv
+rv
+getimapconnectionandloadurl
+aclienteventqueue
+imapurl
+nsnull
+aurl
+rv
+nsimethodimp
+nsimapservice
+liteselectfolder
+nsieventqueue
+aclienteventqueue
+nsimsgfolder
+aimapmailfolder
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+nsassertion
+aimapmailfolder
+aclienteventqueue
+oops
+pointer
+aimapmailfolder
+aclienteventqueue
+nserrornullpointer
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+nsresult
+rv
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+aimapmailfolder
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+aimapmailfolder
+aurllistener
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+rv
+setimapurlsink
+aimapmailfolder
+imapurl
+nssucceeded
+rv
+nscomptr
+nsiuri
+uri
+doqueryinterface
+imapurl
+urlspec
+append
+liteselect
+urlspec
+append
+hierarchyseparator
+nsxpidlcstring
+foldername
+getfoldername
+aimapmailfolder
+gettercopies
+foldername
+urlspec
+append
+foldername
+rv
+uri
+setspec
+urlspec
+nssucceeded
+rv
+rv
+getimapconnectionandloadurl
+aclienteventqueue
+imapurl
+nsnull
+aurl
+rv
+nsimethodimp
+nsimapservice
+geturlforuri
+amessageuri
+nsiuri
+aurl
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+nsok
+nscomptr
+nsimsgfolder
+folder
+nsxpidlcstring
+msgkey
+rv
+decomposeimapuri
+amessageuri
+getteraddrefs
+folder
+gettercopies
+msgkey
+nssucceeded
+rv
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+folder
+rv
+createstartofimapurl
+amessageuri
+getteraddrefs
+imapurl
+folder
+nsnull
+urlspec
+hierarchyseparator
+nsensuresuccess
+rv
+rv
+rv
+setimapurlsink
+folder
+imapurl
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+imapurl
+prbool
+uselocalcache
+prfalse
+folder
+hasmsgoffline
+atoi
+msgkey
+uselocalcache
+mailnewsurl
+setmsgisinlocalcache
+uselocalcache
+nscomptr
+nsiuri
+url
+doqueryinterface
+imapurl
+url
+getspec
+urlspec
+urlspec
+append
+fetch
+uid
+urlspec
+append
+hierarchyseparator
+nsxpidlcstring
+foldername
+getfoldername
+folder
+gettercopies
+foldername
+urlspec
+append
+foldername
+urlspec
+append
+urlspec
+append
+msgkey
+rv
+url
+setspec
+urlspec
+imapurl
+queryinterface
+nsgetiid
+nsiuri
+aurl
+rv
+nsimethodimp
+nsimapservice
+openattachment
+acontenttype
+afilename
+aurl
+amessageuri
+nsisupports
+adisplayconsumer
+nsimsgwindow
+amsgwindow
+nsiurllistener
+aurllistener
+nsresult
+rv
+nsok
+nscautostring
+uri
+amessageuri
+nscautostring
+urlstring
+aurl
+urlstring
+replacesubstring
+section
+section
+print
+sectionpos
+urlstring
+find
+section
+sectionpos
+nscautostring
+mimepart
+urlstring
+right
+mimepart
+urlstring
+length
+sectionpos
+uri
+append
+mimepart
+uri
+type
+uri
+acontenttype
+uri
+filename
+uri
+afilename
+uri
+part
+plstrstr
+aurl
+part
+uri
+part
+uri
+type
+uri
+acontenttype
+uri
+filename
+uri
+afilename
+nscomptr
+nsimsgfolder
+folder
+nsxpidlcstring
+msgkey
+nsxpidlcstring
+urimimepart
+nscautostring
+folderuri
+nsmsgkey
+key
+rv
+decomposeimapuri
+uri
+get
+getteraddrefs
+folder
+gettercopies
+msgkey
+rv
+nsparseimapmessageuri
+uri
+get
+folderuri
+key
+gettercopies
+urimimepart
+nssucceeded
+rv
+nscomptr
+nsiimapmessagesink
+imapmessagesink
+doqueryinterface
+folder
+rv
+nssucceeded
+rv
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+folder
+rv
+createstartofimapurl
+uri
+get
+getteraddrefs
+imapurl
+folder
+aurllistener
+urlspec
+hierarchyseparator
+nsfailed
+rv
+rv
+urimimepart
+nscomptr
+nsimsgmailnewsurl
+mailurl
+doqueryinterface
+imapurl
+mailurl
+mailurl
+setfilename
+nsdependentcstring
+afilename
+rv
+fetchmimepart
+imapurl
+nsiimapurl
+nsimapopenmimepart
+folder
+imapmessagesink
+nsnull
+adisplayconsumer
+msgkey
+urimimepart
+rv
+nsimethodimp
+nsimapservice
+fetchmimepart
+nsiuri
+auri
+amessageuri
+nsisupports
+adisplayconsumer
+nsimsgwindow
+amsgwindow
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+nsresult
+rv
+nsok
+nscomptr
+nsimsgfolder
+folder
+nsxpidlcstring
+msgkey
+nsxpidlcstring
+mimepart
+nscautostring
+folderuri
+nsmsgkey
+key
+rv
+decomposeimapuri
+amessageuri
+getteraddrefs
+folder
+gettercopies
+msgkey
+rv
+nsparseimapmessageuri
+amessageuri
+folderuri
+key
+gettercopies
+mimepart
+nssucceeded
+rv
+nscomptr
+nsiimapmessagesink
+imapmessagesink
+doqueryinterface
+folder
+rv
+nssucceeded
+rv
+nscomptr
+nsiimapurl
+imapurl
+doqueryinterface
+auri
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+auri
+msgurl
+setmsgwindow
+amsgwindow
+msgurl
+registerlistener
+aurllistener
+mimepart
+fetchmimepart
+imapurl
+nsiimapurl
+nsimapmsgfetch
+folder
+imapmessagesink
+aurl
+adisplayconsumer
+msgkey
+mimepart
+rv
+nsimethodimp
+nsimapservice
+displaymessage
+amessageuri
+nsisupports
+adisplayconsumer
+nsimsgwindow
+amsgwindow
+nsiurllistener
+aurllistener
+acharsetoverride
+nsiuri
+aurl
+nsresult
+rv
+nsok
+nscomptr
+nsimsgfolder
+folder
+nsxpidlcstring
+msgkey
+nsxpidlcstring
+mimepart
+nscautostring
+folderuri
+nsmsgkey
+key
+rv
+decomposeimapuri
+amessageuri
+getteraddrefs
+folder
+gettercopies
+msgkey
+msgkey
+isempty
+nsmsgmessagenotfound
+rv
+nsparseimapmessageuri
+amessageuri
+folderuri
+key
+gettercopies
+mimepart
+nssucceeded
+rv
+nscomptr
+nsiimapmessagesink
+imapmessagesink
+doqueryinterface
+folder
+rv
+nssucceeded
+rv
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+folder
+rv
+createstartofimapurl
+amessageuri
+getteraddrefs
+imapurl
+folder
+aurllistener
+urlspec
+hierarchyseparator
+nsfailed
+rv
+rv
+mimepart
+fetchmimepart
+imapurl
+nsiimapurl
+nsimapmsgfetch
+folder
+imapmessagesink
+aurl
+adisplayconsumer
+msgkey
+mimepart
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+imapurl
+nscomptr
+nsimsginurl
+inurl
+doqueryinterface
+imapurl
+inurl
+setcharsetoverride
+acharsetoverride
+pruint
+messagesize
+prbool
+usemimepartsondemand
+gmimeondemand
+prbool
+shouldstoremsgoffline
+prfalse
+prbool
+hasmsgoffline
+prfalse
+nscomptr
+nsimsgincomingserver
+amsgincomingserver
+imapmessagesink
+imapmessagesink
+getmessagesizefromdb
+msgkey
+prtrue
+messagesize
+msgurl
+setmsgwindow
+amsgwindow
+rv
+msgurl
+getserver
+getteraddrefs
+amsgincomingserver
+nssucceeded
+rv
+amsgincomingserver
+nscomptr
+nsiimapincomingserver
+aimapserver
+doqueryinterface
+amsgincomingserver
+rv
+nssucceeded
+rv
+aimapserver
+aimapserver
+getmimepartsondemand
+usemimepartsondemand
+nscautostring
+uristr
+amessageuri
+print
+keyseparator
+uristr
+rfindchar
+keyseparator
+print
+keyendseparator
+uristr
+findcharinset
+keyseparator
+print
+mpodfetchpos
+uristr
+find
+fetchcompletemessage
+prfalse
+keyendseparator
+mpodfetchpos
+usemimepartsondemand
+prfalse
+folder
+folder
+shouldstoremsgoffline
+key
+shouldstoremsgoffline
+folder
+hasmsgoffline
+key
+hasmsgoffline
+usemimepartsondemand
+messagesize
+uint
+gmimeondemandthreshold
+imapurl
+setfetchpartsondemand
+prfalse
+msgurl
+setaddtomemorycache
+prtrue
+imapurl
+setfetchpartsondemand
+prtrue
+shouldstoremsgoffline
+prfalse
+msgurl
+setaddtomemorycache
+prfalse
+imapmessagesink
+imapmessagesink
+setnotifydownloadedlines
+shouldstoremsgoffline
+hasmsgoffline
+msgurl
+setmsgisinlocalcache
+prtrue
+rv
+fetchmessage
+imapurl
+nsiimapurl
+nsimapmsgfetch
+folder
+imapmessagesink
+amsgwindow
+adisplayconsumer
+msgkey
+prfalse
+mprintingoperation
+print
+nsnull
+aurl
+rv
+nsresult
+nsimapservice
+fetchmimepart
+nsiimapurl
+aimapurl
+nsimapaction
+aimapaction
+nsimsgfolder
+aimapmailfolder
+nsiimapmessagesink
+aimapmessage
+nsiuri
+aurl
+nsisupports
+adisplayconsumer
+messageidentifierlist
+mimepart
+nsresult
+rv
+nsok
+nsassertion
+aimapurl
+aimapmailfolder
+aimapmessage
+oops
+pointer
+aimapurl
+aimapmailfolder
+aimapmessage
+nserrornullpointer
+nscautostring
+urlspec
+rv
+setimapurlsink
+aimapmailfolder
+aimapurl
+nsimapaction
+actiontouse
+aimapaction
+actiontouse
+nsimapurl
+nsimapopenmimepart
+actiontouse
+nsiimapurl
+nsimapmsgfetch
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+aimapurl
+aimapmailfolder
+msgurl
+messageidentifierlist
+prbool
+uselocalcache
+prfalse
+aimapmailfolder
+hasmsgoffline
+atoi
+messageidentifierlist
+uselocalcache
+msgurl
+setmsgisinlocalcache
+uselocalcache
+rv
+aimapurl
+setimapmessagesink
+aimapmessage
+nssucceeded
+rv
+nscomptr
+nsiuri
+url
+doqueryinterface
+aimapurl
+url
+getspec
+urlspec
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+aimapmailfolder
+urlspec
+append
+fetch
+uid
+urlspec
+append
+hierarchyseparator
+nsxpidlcstring
+foldername
+getfoldername
+aimapmailfolder
+gettercopies
+foldername
+urlspec
+append
+foldername
+urlspec
+append
+urlspec
+append
+messageidentifierlist
+urlspec
+append
+mimepart
+mprintingoperation
+urlspec
+append
+header
+print
+rv
+url
+setspec
+urlspec
+rv
+aimapurl
+setimapaction
+actiontouse
+aimapmailfolder
+adisplayconsumer
+nscomptr
+nsimsgincomingserver
+amsgincomingserver
+rv
+aimapmailfolder
+getserver
+getteraddrefs
+amsgincomingserver
+nssucceeded
+rv
+amsgincomingserver
+prbool
+interrupted
+nscomptr
+nsiimapincomingserver
+aimapserver
+doqueryinterface
+amsgincomingserver
+rv
+nssucceeded
+rv
+aimapserver
+aimapserver
+pseudointerruptmsgload
+aimapmailfolder
+nsnull
+interrupted
+nscomptr
+nsidocshell
+docshell
+doqueryinterface
+adisplayconsumer
+rv
+nssucceeded
+rv
+docshell
+nscomptr
+nsidocshellloadinfo
+loadinfo
+aimapaction
+nsimapurl
+nsimapopenmimepart
+docshell
+createloadinfo
+getteraddrefs
+loadinfo
+loadinfo
+setloadtype
+nsidocshellloadinfo
+loadlink
+rv
+docshell
+loaduri
+url
+loadinfo
+nsiwebnavigation
+loadflagsnone
+prfalse
+nscomptr
+nsistreamlistener
+astreamlistener
+doqueryinterface
+adisplayconsumer
+rv
+nssucceeded
+rv
+astreamlistener
+nscomptr
+nsichannel
+achannel
+nscomptr
+nsiloadgroup
+aloadgroup
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+aimapurl
+rv
+nssucceeded
+rv
+mailnewsurl
+mailnewsurl
+getloadgroup
+getteraddrefs
+aloadgroup
+rv
+newchannel
+url
+getteraddrefs
+achannel
+nsfailed
+rv
+rv
+nscomptr
+nsisupports
+actxt
+doqueryinterface
+url
+rv
+achannel
+asyncopen
+astreamlistener
+actxt
+ifdef
+debugmscott
+nsassertion
+oops
+someone
+still
+is
+reaching
+part
+of
+the
+code
+endif
+nscomptr
+nsieventqueue
+queue
+nscomptr
+nsieventqueueservice
+peventqservice
+dogetservice
+keventqueueservicecid
+rv
+nsfailed
+rv
+rv
+rv
+peventqservice
+getthreadeventqueue
+nscurrentthread
+getteraddrefs
+queue
+nsfailed
+rv
+rv
+rv
+getimapconnectionandloadurl
+queue
+aimapurl
+adisplayconsumer
+aurl
+rv
+nsimethodimp
+nsimapservice
+displaymessageforprinting
+amessageuri
+nsisupports
+adisplayconsumer
+nsimsgwindow
+amsgwindow
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+mprintingoperation
+prtrue
+nsresult
+rv
+displaymessage
+amessageuri
+adisplayconsumer
+amsgwindow
+aurllistener
+nsnull
+aurl
+mprintingoperation
+prfalse
+rv
+nsimethodimp
+nsimapservice
+copymessage
+asrcmailboxuri
+nsistreamlistener
+amailboxcopy
+prbool
+movemessage
+nsiurllistener
+aurllistener
+nsimsgwindow
+amsgwindow
+nsiuri
+aurl
+nsresult
+rv
+nserrornullpointer
+nscomptr
+nsisupports
+streamsupport
+asrcmailboxuri
+amailboxcopy
+rv
+streamsupport
+doqueryinterface
+amailboxcopy
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsimsgfolder
+folder
+nsxpidlcstring
+msgkey
+rv
+decomposeimapuri
+asrcmailboxuri
+getteraddrefs
+folder
+gettercopies
+msgkey
+nssucceeded
+rv
+nscomptr
+nsiimapmessagesink
+imapmessagesink
+doqueryinterface
+folder
+rv
+nssucceeded
+rv
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+folder
+prbool
+hasmsgoffline
+prfalse
+nsmsgkey
+key
+atoi
+msgkey
+rv
+createstartofimapurl
+asrcmailboxuri
+getteraddrefs
+imapurl
+folder
+aurllistener
+urlspec
+hierarchyseparator
+folder
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+imapurl
+folder
+hasmsgoffline
+key
+hasmsgoffline
+msgurl
+msgurl
+setmsgisinlocalcache
+hasmsgoffline
+nsimapaction
+imapaction
+nsiimapurl
+nsimaponlinetoofflinecopy
+movemessage
+imapaction
+nsiimapurl
+nsimaponlinetoofflinemove
+rv
+fetchmessage
+imapurl
+imapaction
+folder
+imapmessagesink
+amsgwindow
+streamsupport
+msgkey
+prfalse
+nsnull
+aurl
+rv
+nsimethodimp
+nsimapservice
+copymessages
+nsmsgkeyarray
+keys
+nsimsgfolder
+srcfolder
+nsistreamlistener
+amailboxcopy
+prbool
+movemessage
+nsiurllistener
+aurllistener
+nsimsgwindow
+amsgwindow
+nsiuri
+aurl
+nsresult
+rv
+nsok
+nscomptr
+nsisupports
+streamsupport
+keys
+amailboxcopy
+nserrornullpointer
+streamsupport
+doqueryinterface
+amailboxcopy
+rv
+streamsupport
+nsfailed
+rv
+rv
+nscomptr
+nsimsgfolder
+folder
+srcfolder
+nsxpidlcstring
+msgkey
+nssucceeded
+rv
+nscomptr
+nsiimapmessagesink
+imapmessagesink
+doqueryinterface
+folder
+rv
+nssucceeded
+rv
+nscstring
+messageids
+allocateimapuidstring
+keys
+getarray
+keys
+getsize
+messageids
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+folder
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+folder
+aurllistener
+urlspec
+hierarchyseparator
+nsimapaction
+action
+movemessage
+action
+nsiimapurl
+nsimaponlinetoofflinemove
+action
+nsiimapurl
+nsimaponlinetoofflinecopy
+imapurl
+setcopystate
+amailboxcopy
+rv
+fetchmessage
+imapurl
+action
+folder
+imapmessagesink
+amsgwindow
+streamsupport
+messageids
+get
+prfalse
+nsnull
+aurl
+rv
+nsimethodimp
+nsimapservice
+search
+nsimsgsearchsession
+asearchsession
+nsimsgwindow
+amsgwindow
+nsimsgfolder
+amsgfolder
+asearchuri
+nsresult
+rv
+nsok
+nscautostring
+folderuri
+nscomptr
+nsiimapurl
+imapurl
+nscomptr
+nsiurllistener
+urllistener
+doqueryinterface
+asearchsession
+nscautostring
+urlspec
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+amsgfolder
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+amsgfolder
+urllistener
+urlspec
+hierarchyseparator
+nsfailed
+rv
+rv
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+imapurl
+msgurl
+setmsgwindow
+amsgwindow
+msgurl
+setsearchsession
+asearchsession
+imapurl
+addchanneltoloadgroup
+rv
+setimapurlsink
+amsgfolder
+imapurl
+nssucceeded
+rv
+nsxpidlcstring
+foldername
+getfoldername
+amsgfolder
+gettercopies
+foldername
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+imapurl
+urlspec
+append
+search
+uid
+urlspec
+append
+hierarchyseparator
+urlspec
+append
+foldername
+urlspec
+append
+searchcmd
+nsescape
+asearchuri
+urlxalphas
+urlspec
+append
+searchcmd
+nscrt
+free
+searchcmd
+rv
+mailnewsurl
+setspec
+urlspec
+nssucceeded
+rv
+nscomptr
+nsieventqueue
+queue
+nscomptr
+nsieventqueueservice
+peventqservice
+dogetservice
+keventqueueservicecid
+rv
+nsfailed
+rv
+rv
+rv
+peventqservice
+getthreadeventqueue
+nscurrentthread
+getteraddrefs
+queue
+nsfailed
+rv
+rv
+rv
+getimapconnectionandloadurl
+queue
+imapurl
+nsnull
+nsnull
+rv
+nsresult
+nsimapservice
+decomposeimapuri
+amessageuri
+nsimsgfolder
+afolder
+nsmsgkey
+amsgkey
+nsensureargpointer
+amessageuri
+nsensureargpointer
+afolder
+nsensureargpointer
+amsgkey
+nsresult
+rv
+nsok
+nscautostring
+folderuri
+rv
+nsparseimapmessageuri
+amessageuri
+folderuri
+amsgkey
+nsnull
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+rdf
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+res
+rv
+rdf
+getresource
+folderuri
+getteraddrefs
+res
+nsensuresuccess
+rv
+rv
+rv
+res
+queryinterface
+nsgetiid
+nsimsgfolder
+afolder
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsimapservice
+decomposeimapuri
+amessageuri
+nsimsgfolder
+afolder
+amsgkey
+nsmsgkey
+msgkey
+nsresult
+rv
+rv
+decomposeimapuri
+amessageuri
+afolder
+msgkey
+nsensuresuccess
+rv
+rv
+msgkey
+nscautostring
+messageidstring
+messageidstring
+appendint
+msgkey
+amsgkey
+tonewcstring
+messageidstring
+rv
+nsimethodimp
+nsimapservice
+savemessagetodisk
+amessageuri
+nsifilespec
+afile
+prbool
+aadddummyenvelope
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+prbool
+canonicallineending
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+nsok
+nscomptr
+nsimsgfolder
+folder
+nscomptr
+nsiimapurl
+imapurl
+nsxpidlcstring
+msgkey
+rv
+decomposeimapuri
+amessageuri
+getteraddrefs
+folder
+gettercopies
+msgkey
+nsfailed
+rv
+rv
+prbool
+hasmsgoffline
+prfalse
+folder
+folder
+hasmsgoffline
+atoi
+msgkey
+hasmsgoffline
+nscautostring
+urlspec
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+folder
+rv
+createstartofimapurl
+amessageuri
+getteraddrefs
+imapurl
+folder
+aurllistener
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+nscomptr
+nsiimapmessagesink
+imapmessagesink
+doqueryinterface
+folder
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsimsgmessageurl
+msgurl
+doqueryinterface
+imapurl
+rv
+nsfailed
+rv
+rv
+msgurl
+setmessagefile
+afile
+msgurl
+setadddummyenvelope
+aadddummyenvelope
+msgurl
+setcanonicallineending
+canonicallineending
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+msgurl
+mailnewsurl
+mailnewsurl
+setmsgisinlocalcache
+hasmsgoffline
+nscomptr
+nsistreamlistener
+saveaslistener
+mailnewsurl
+getsaveaslistener
+aadddummyenvelope
+afile
+getteraddrefs
+saveaslistener
+fetchmessage
+imapurl
+nsiimapurl
+nsimapsavemessagetodisk
+folder
+imapmessagesink
+amsgwindow
+saveaslistener
+msgkey
+prfalse
+nsnull
+aurl
+rv
+nsimethodimp
+nsimapservice
+fetchmessage
+nsiimapurl
+aimapurl
+nsimapaction
+aimapaction
+nsimsgfolder
+aimapmailfolder
+nsiimapmessagesink
+aimapmessage
+nsimsgwindow
+amsgwindow
+nsisupports
+adisplayconsumer
+messageidentifierlist
+prbool
+aconvertdatatotext
+aadditionalheader
+nsiuri
+aurl
+nsassertion
+aimapurl
+aimapmailfolder
+aimapmessage
+oops
+pointer
+aimapurl
+aimapmailfolder
+aimapmessage
+nserrornullpointer
+nsresult
+rv
+nsok
+nscomptr
+nsiuri
+url
+doqueryinterface
+aimapurl
+weareoffline
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+aimapurl
+msgurl
+prbool
+msgisinlocalcache
+prfalse
+msgurl
+getmsgisinlocalcache
+msgisinlocalcache
+msgisinlocalcache
+nscomptr
+nsimsgincomingserver
+server
+rv
+aimapmailfolder
+getserver
+getteraddrefs
+server
+server
+adisplayconsumer
+rv
+server
+displayofflinemsg
+amsgwindow
+rv
+aurl
+aurl
+url
+nsifaddref
+aurl
+nscautostring
+urlspec
+rv
+setimapurlsink
+aimapmailfolder
+aimapurl
+rv
+aimapurl
+setimapmessagesink
+aimapmessage
+url
+getspec
+urlspec
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+aimapmailfolder
+urlspec
+append
+fetch
+uid
+urlspec
+append
+hierarchyseparator
+nsxpidlcstring
+foldername
+getfoldername
+aimapmailfolder
+gettercopies
+foldername
+urlspec
+append
+foldername
+urlspec
+append
+urlspec
+append
+messageidentifierlist
+aadditionalheader
+urlspec
+append
+header
+urlspec
+append
+aadditionalheader
+rv
+url
+setspec
+urlspec
+rv
+aimapurl
+setimapaction
+aimapaction
+nscomptr
+nsidocshell
+docshell
+doqueryinterface
+adisplayconsumer
+rv
+aimapmailfolder
+docshell
+nscomptr
+nsimsgincomingserver
+amsgincomingserver
+rv
+aimapmailfolder
+getserver
+getteraddrefs
+amsgincomingserver
+nssucceeded
+rv
+amsgincomingserver
+prbool
+interrupted
+nscomptr
+nsiimapincomingserver
+aimapserver
+doqueryinterface
+amsgincomingserver
+rv
+nssucceeded
+rv
+aimapserver
+aimapserver
+pseudointerruptmsgload
+aimapmailfolder
+amsgwindow
+interrupted
+nssucceeded
+rv
+docshell
+nsassertion
+aconvertdatatotext
+can
+convert
+to
+text
+when
+docshell
+rv
+docshell
+loaduri
+url
+nsnull
+nsiwebnavigation
+loadflagsnone
+prfalse
+nscomptr
+nsistreamlistener
+streamlistener
+doqueryinterface
+adisplayconsumer
+rv
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+aimapurl
+rv
+amsgwindow
+mailnewsurl
+mailnewsurl
+setmsgwindow
+amsgwindow
+nssucceeded
+rv
+streamlistener
+nscomptr
+nsichannel
+channel
+nscomptr
+nsiloadgroup
+loadgroup
+nssucceeded
+rv
+mailnewsurl
+mailnewsurl
+getloadgroup
+getteraddrefs
+loadgroup
+rv
+newchannel
+url
+getteraddrefs
+channel
+nsfailed
+rv
+rv
+rv
+channel
+setloadgroup
+loadgroup
+nsfailed
+rv
+rv
+aconvertdatatotext
+nscomptr
+nsistreamlistener
+conversionlistener
+nscomptr
+nsistreamconverterservice
+streamconverter
+dogetservice
+streamconverters
+rv
+nsensuresuccess
+rv
+rv
+rv
+streamconverter
+asyncconvertdata
+nsliteralstring
+message
+rfc
+get
+nsliteralstring
+get
+streamlistener
+channel
+getteraddrefs
+conversionlistener
+nsensuresuccess
+rv
+rv
+streamlistener
+conversionlistener
+nscomptr
+nsisupports
+actxt
+doqueryinterface
+url
+rv
+channel
+asyncopen
+streamlistener
+actxt
+defined
+debugmscott
+defined
+debugbienvenu
+nsassertion
+oops
+someone
+still
+is
+reaching
+part
+of
+the
+code
+endif
+nscomptr
+nsieventqueue
+queue
+nscomptr
+nsieventqueueservice
+peventqservice
+dogetservice
+keventqueueservicecid
+rv
+nsfailed
+rv
+rv
+rv
+peventqservice
+getthreadeventqueue
+nscurrentthread
+getteraddrefs
+queue
+nsfailed
+rv
+rv
+rv
+getimapconnectionandloadurl
+queue
+aimapurl
+adisplayconsumer
+aurl
+rv
+nsimethodimp
+nsimapservice
+streammessage
+amessageuri
+nsisupports
+aconsumer
+nsimsgwindow
+amsgwindow
+nsiurllistener
+aurllistener
+prbool
+aconvertdata
+aadditionalheader
+nsiuri
+aurl
+nscomptr
+nsimsgfolder
+folder
+nsxpidlcstring
+msgkey
+nsxpidlcstring
+mimepart
+nscautostring
+folderuri
+nsmsgkey
+key
+nsresult
+rv
+decomposeimapuri
+amessageuri
+getteraddrefs
+folder
+gettercopies
+msgkey
+msgkey
+isempty
+nsmsgmessagenotfound
+rv
+nsparseimapmessageuri
+amessageuri
+folderuri
+key
+gettercopies
+mimepart
+nssucceeded
+rv
+nscomptr
+nsiimapmessagesink
+imapmessagesink
+doqueryinterface
+folder
+rv
+nssucceeded
+rv
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+folder
+rv
+createstartofimapurl
+amessageuri
+getteraddrefs
+imapurl
+folder
+aurllistener
+urlspec
+hierarchyseparator
+nsfailed
+rv
+rv
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+imapurl
+prbool
+shouldstoremsgoffline
+prfalse
+prbool
+hasmsgoffline
+prfalse
+nscomptr
+nsimsgincomingserver
+amsgincomingserver
+msgurl
+setmsgwindow
+amsgwindow
+rv
+msgurl
+getserver
+getteraddrefs
+amsgincomingserver
+folder
+folder
+shouldstoremsgoffline
+key
+shouldstoremsgoffline
+folder
+hasmsgoffline
+key
+hasmsgoffline
+imapurl
+setfetchpartsondemand
+prfalse
+msgurl
+setaddtomemorycache
+prtrue
+imapmessagesink
+imapmessagesink
+setnotifydownloadedlines
+shouldstoremsgoffline
+hasmsgoffline
+msgurl
+setmsgisinlocalcache
+prtrue
+rv
+fetchmessage
+imapurl
+nsiimapurl
+nsimapmsgfetchpeek
+folder
+imapmessagesink
+amsgwindow
+aconsumer
+msgkey
+aconvertdata
+aadditionalheader
+aurl
+rv
+nsresult
+nsimapservice
+createstartofimapurl
+aimapuri
+nsiimapurl
+imapurl
+nsimsgfolder
+aimapmailfolder
+nsiurllistener
+aurllistener
+nscstring
+urlspec
+prunichar
+hierarchydelimiter
+nsresult
+rv
+nsok
+hostname
+nsnull
+nsxpidlcstring
+username
+nsxpidlcstring
+escapedusername
+rv
+aimapmailfolder
+gethostname
+hostname
+nsfailed
+rv
+rv
+rv
+aimapmailfolder
+getusername
+gettercopies
+username
+nsfailed
+rv
+prfree
+hostname
+rv
+username
+username
+gettercopies
+escapedusername
+nsescape
+username
+urlxalphas
+print
+port
+imapport
+nscomptr
+nsimsgincomingserver
+server
+rv
+aimapmailfolder
+getserver
+getteraddrefs
+server
+nssucceeded
+rv
+server
+getport
+port
+port
+port
+port
+imapport
+rv
+nscomponentmanager
+createinstance
+kimapurlcid
+nsnull
+nsgetiid
+nsiimapurl
+imapurl
+nssucceeded
+rv
+imapurl
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+imapurl
+rv
+nssucceeded
+rv
+mailnewsurl
+aurllistener
+mailnewsurl
+registerlistener
+aurllistener
+nscomptr
+nsimsgmessageurl
+msgurl
+doqueryinterface
+imapurl
+imapurl
+setexternallinkurl
+prfalse
+msgurl
+seturi
+aimapuri
+urlspec
+imap
+urlspec
+append
+escapedusername
+urlspec
+append
+urlspec
+append
+hostname
+urlspec
+append
+urlspec
+appendint
+port
+rv
+mailnewsurl
+setspec
+urlspec
+hierarchydelimiter
+konlinehierarchyseparatorunknown
+nscomptr
+nsimsgimapmailfolder
+imapfolder
+doqueryinterface
+aimapmailfolder
+imapfolder
+imapfolder
+gethierarchydelimiter
+hierarchydelimiter
+prfree
+hostname
+rv
+nsimethodimp
+nsimapservice
+getheaders
+nsieventqueue
+aclienteventqueue
+nsimsgfolder
+aimapmailfolder
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+messageidentifierlist
+prbool
+messageidsareuid
+nsassertion
+aimapmailfolder
+aclienteventqueue
+oops
+pointer
+aimapmailfolder
+aclienteventqueue
+nserrornullpointer
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+aimapmailfolder
+nsresult
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+aimapmailfolder
+aurllistener
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+imapurl
+nscomptr
+nsiuri
+uri
+doqueryinterface
+imapurl
+rv
+imapurl
+setimapaction
+nsiimapurl
+nsimapmsgfetch
+rv
+setimapurlsink
+aimapmailfolder
+imapurl
+nssucceeded
+rv
+urlspec
+append
+header
+urlspec
+append
+messageidsareuid
+uidstring
+sequencestring
+urlspec
+append
+urlspec
+append
+hierarchyseparator
+nsxpidlcstring
+foldername
+getfoldername
+aimapmailfolder
+gettercopies
+foldername
+urlspec
+append
+foldername
+urlspec
+append
+urlspec
+append
+messageidentifierlist
+rv
+uri
+setspec
+urlspec
+nssucceeded
+rv
+rv
+getimapconnectionandloadurl
+aclienteventqueue
+imapurl
+nsnull
+aurl
+rv
+nsimethodimp
+nsimapservice
+noop
+nsieventqueue
+aclienteventqueue
+nsimsgfolder
+aimapmailfolder
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+nsassertion
+aimapmailfolder
+aclienteventqueue
+oops
+pointer
+aimapmailfolder
+aclienteventqueue
+nserrornullpointer
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+aimapmailfolder
+nsresult
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+aimapmailfolder
+aurllistener
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+imapurl
+rv
+imapurl
+setimapaction
+nsiimapurl
+nsimapselectnoopfolder
+rv
+setimapurlsink
+aimapmailfolder
+imapurl
+nscomptr
+nsiuri
+uri
+doqueryinterface
+imapurl
+nssucceeded
+rv
+urlspec
+append
+selectnoop
+urlspec
+append
+hierarchyseparator
+nsxpidlcstring
+foldername
+getfoldername
+aimapmailfolder
+gettercopies
+foldername
+urlspec
+append
+foldername
+rv
+uri
+setspec
+urlspec
+nssucceeded
+rv
+rv
+getimapconnectionandloadurl
+aclienteventqueue
+imapurl
+nsnull
+aurl
+rv
+nsimethodimp
+nsimapservice
+expunge
+nsieventqueue
+aclienteventqueue
+nsimsgfolder
+aimapmailfolder
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+nsassertion
+aimapmailfolder
+aclienteventqueue
+oops
+pointer
+aimapmailfolder
+aclienteventqueue
+nserrornullpointer
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+aimapmailfolder
+nsresult
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+aimapmailfolder
+aurllistener
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+rv
+imapurl
+setimapaction
+nsiimapurl
+nsimapexpungefolder
+rv
+setimapurlsink
+aimapmailfolder
+imapurl
+nscomptr
+nsiuri
+uri
+doqueryinterface
+imapurl
+nssucceeded
+rv
+urlspec
+append
+expunge
+urlspec
+append
+hierarchyseparator
+nsxpidlcstring
+foldername
+getfoldername
+aimapmailfolder
+gettercopies
+foldername
+urlspec
+append
+foldername
+rv
+uri
+setspec
+urlspec
+nssucceeded
+rv
+rv
+getimapconnectionandloadurl
+aclienteventqueue
+imapurl
+nsnull
+aurl
+rv
+nsimethodimp
+nsimapservice
+biff
+nsieventqueue
+aclienteventqueue
+nsimsgfolder
+aimapmailfolder
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+pruint
+uidhighwater
+nsassertion
+aimapmailfolder
+aclienteventqueue
+oops
+pointer
+aimapmailfolder
+aclienteventqueue
+nserrornullpointer
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+aimapmailfolder
+nsresult
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+aimapmailfolder
+aurllistener
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+imapurl
+rv
+imapurl
+setimapaction
+nsiimapurl
+nsimapexpungefolder
+rv
+setimapurlsink
+aimapmailfolder
+imapurl
+nscomptr
+nsiuri
+uri
+doqueryinterface
+imapurl
+nssucceeded
+rv
+urlspec
+append
+biff
+urlspec
+append
+hierarchyseparator
+nsxpidlcstring
+foldername
+getfoldername
+aimapmailfolder
+gettercopies
+foldername
+urlspec
+append
+foldername
+urlspec
+append
+urlspec
+appendint
+uidhighwater
+rv
+uri
+setspec
+urlspec
+nssucceeded
+rv
+rv
+getimapconnectionandloadurl
+aclienteventqueue
+imapurl
+nsnull
+aurl
+rv
+nsimethodimp
+nsimapservice
+deletefolder
+nsieventqueue
+eventqueue
+nsimsgfolder
+folder
+nsiurllistener
+urllistener
+nsiuri
+url
+nsresult
+rv
+nserrornullpointer
+nsassertion
+eventqueue
+folder
+oops
+deletefolder
+eventqueue
+folder
+eventqueue
+folder
+rv
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+prbool
+removefolderandmsgs
+prfalse
+nscomptr
+nsimsgincomingserver
+server
+nssucceeded
+folder
+getserver
+getteraddrefs
+server
+server
+nscomptr
+nsiimapincomingserver
+imapserver
+doqueryinterface
+server
+imapserver
+imapserver
+getisaolserver
+removefolderandmsgs
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+folder
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+folder
+urllistener
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+rv
+setimapurlsink
+folder
+imapurl
+nssucceeded
+rv
+nscomptr
+nsiuri
+uri
+doqueryinterface
+imapurl
+removefolderandmsgs
+urlspec
+append
+deletefolder
+urlspec
+append
+urlspec
+append
+hierarchyseparator
+nsxpidlcstring
+foldername
+rv
+getfoldername
+folder
+gettercopies
+foldername
+nssucceeded
+rv
+urlspec
+append
+foldername
+rv
+uri
+setspec
+urlspec
+nssucceeded
+rv
+rv
+getimapconnectionandloadurl
+eventqueue
+imapurl
+nsnull
+url
+rv
+nsimethodimp
+nsimapservice
+deletemessages
+nsieventqueue
+aclienteventqueue
+nsimsgfolder
+aimapmailfolder
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+messageidentifierlist
+prbool
+messageidsareuid
+nsresult
+rv
+nsassertion
+aimapmailfolder
+aclienteventqueue
+oops
+pointer
+aimapmailfolder
+aclienteventqueue
+nserrornullpointer
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+aimapmailfolder
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+aimapmailfolder
+aurllistener
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+imapurl
+rv
+imapurl
+setimapaction
+nsiimapurl
+nsimapmsgfetch
+rv
+setimapurlsink
+aimapmailfolder
+imapurl
+nssucceeded
+rv
+nscomptr
+nsiuri
+uri
+doqueryinterface
+imapurl
+urlspec
+append
+deletemsg
+urlspec
+append
+messageidsareuid
+uidstring
+sequencestring
+urlspec
+append
+urlspec
+append
+hierarchyseparator
+nsxpidlcstring
+foldername
+getfoldername
+aimapmailfolder
+gettercopies
+foldername
+urlspec
+append
+foldername
+urlspec
+append
+urlspec
+append
+messageidentifierlist
+rv
+uri
+setspec
+urlspec
+nssucceeded
+rv
+rv
+getimapconnectionandloadurl
+aclienteventqueue
+imapurl
+nsnull
+aurl
+rv
+nsimethodimp
+nsimapservice
+deleteallmessages
+nsieventqueue
+aclienteventqueue
+nsimsgfolder
+aimapmailfolder
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+nsassertion
+aimapmailfolder
+aclienteventqueue
+oops
+pointer
+aimapmailfolder
+aclienteventqueue
+nserrornullpointer
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+aimapmailfolder
+nsresult
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+aimapmailfolder
+aurllistener
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+rv
+imapurl
+setimapaction
+nsiimapurl
+nsimapselectnoopfolder
+rv
+setimapurlsink
+aimapmailfolder
+imapurl
+nssucceeded
+rv
+nscomptr
+nsiuri
+uri
+doqueryinterface
+imapurl
+urlspec
+append
+deleteallmsgs
+urlspec
+append
+hierarchyseparator
+nsxpidlcstring
+foldername
+getfoldername
+aimapmailfolder
+gettercopies
+foldername
+urlspec
+append
+foldername
+rv
+uri
+setspec
+urlspec
+nssucceeded
+rv
+rv
+getimapconnectionandloadurl
+aclienteventqueue
+imapurl
+nsnull
+aurl
+rv
+nsimethodimp
+nsimapservice
+addmessageflags
+nsieventqueue
+aclienteventqueue
+nsimsgfolder
+aimapmailfolder
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+messageidentifierlist
+imapmessageflagstype
+flags
+prbool
+messageidsareuid
+diddleflags
+aclienteventqueue
+aimapmailfolder
+aurllistener
+aurl
+messageidentifierlist
+addmsgflags
+flags
+messageidsareuid
+nsimethodimp
+nsimapservice
+subtractmessageflags
+nsieventqueue
+aclienteventqueue
+nsimsgfolder
+aimapmailfolder
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+messageidentifierlist
+imapmessageflagstype
+flags
+prbool
+messageidsareuid
+diddleflags
+aclienteventqueue
+aimapmailfolder
+aurllistener
+aurl
+messageidentifierlist
+subtractmsgflags
+flags
+messageidsareuid
+nsimethodimp
+nsimapservice
+setmessageflags
+nsieventqueue
+aclienteventqueue
+nsimsgfolder
+aimapmailfolder
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+messageidentifierlist
+imapmessageflagstype
+flags
+prbool
+messageidsareuid
+diddleflags
+aclienteventqueue
+aimapmailfolder
+aurllistener
+aurl
+messageidentifierlist
+setmsgflags
+flags
+messageidsareuid
+nsresult
+nsimapservice
+diddleflags
+nsieventqueue
+aclienteventqueue
+nsimsgfolder
+aimapmailfolder
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+messageidentifierlist
+howtodiddle
+imapmessageflagstype
+flags
+prbool
+messageidsareuid
+nsassertion
+aimapmailfolder
+aclienteventqueue
+oops
+pointer
+aimapmailfolder
+aclienteventqueue
+nserrornullpointer
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+aimapmailfolder
+nsresult
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+aimapmailfolder
+aurllistener
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+imapurl
+rv
+imapurl
+setimapaction
+nsiimapurl
+nsimapmsgfetch
+rv
+setimapurlsink
+aimapmailfolder
+imapurl
+nssucceeded
+rv
+nscomptr
+nsiuri
+uri
+doqueryinterface
+imapurl
+urlspec
+append
+urlspec
+append
+howtodiddle
+urlspec
+append
+urlspec
+append
+messageidsareuid
+uidstring
+sequencestring
+urlspec
+append
+urlspec
+append
+hierarchyseparator
+nsxpidlcstring
+foldername
+getfoldername
+aimapmailfolder
+gettercopies
+foldername
+urlspec
+append
+foldername
+urlspec
+append
+urlspec
+append
+messageidentifierlist
+urlspec
+append
+urlspec
+appendint
+flags
+rv
+uri
+setspec
+urlspec
+nssucceeded
+rv
+rv
+getimapconnectionandloadurl
+aclienteventqueue
+imapurl
+nsnull
+aurl
+rv
+nsresult
+nsimapservice
+setimapurlsink
+nsimsgfolder
+amsgfolder
+nsiimapurl
+aimapurl
+nsresult
+rv
+nserrornullpointer
+nsisupports
+ainst
+nsnull
+nscomptr
+nsimsgincomingserver
+incomingserver
+nscomptr
+nsiimapserversink
+imapserversink
+nsassertion
+amsgfolder
+aimapurl
+oops
+pointers
+amsgfolder
+aimapurl
+rv
+rv
+amsgfolder
+getserver
+getteraddrefs
+incomingserver
+nssucceeded
+rv
+incomingserver
+imapserversink
+doqueryinterface
+incomingserver
+imapserversink
+aimapurl
+setimapserversink
+imapserversink
+rv
+amsgfolder
+queryinterface
+nsgetiid
+nsiimapmailfoldersink
+ainst
+nssucceeded
+rv
+ainst
+aimapurl
+setimapmailfoldersink
+nsiimapmailfoldersink
+ainst
+nsifrelease
+ainst
+ainst
+nsnull
+rv
+amsgfolder
+queryinterface
+nsgetiid
+nsiimapmessagesink
+ainst
+nssucceeded
+rv
+ainst
+aimapurl
+setimapmessagesink
+nsiimapmessagesink
+ainst
+nsifrelease
+ainst
+ainst
+nsnull
+rv
+amsgfolder
+queryinterface
+nsgetiid
+nsiimapextensionsink
+ainst
+nssucceeded
+rv
+ainst
+aimapurl
+setimapextensionsink
+nsiimapextensionsink
+ainst
+nsifrelease
+ainst
+ainst
+nsnull
+rv
+amsgfolder
+queryinterface
+nsgetiid
+nsiimapmiscellaneoussink
+ainst
+nssucceeded
+rv
+ainst
+aimapurl
+setimapmiscellaneoussink
+nsiimapmiscellaneoussink
+ainst
+nsifrelease
+ainst
+ainst
+nsnull
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+aimapurl
+mailnewsurl
+setfolder
+amsgfolder
+nsok
+nsimethodimp
+nsimapservice
+discoverallfolders
+nsieventqueue
+aclienteventqueue
+nsimsgfolder
+aimapmailfolder
+nsiurllistener
+aurllistener
+nsimsgwindow
+amsgwindow
+nsiuri
+aurl
+nsassertion
+aimapmailfolder
+aclienteventqueue
+oops
+aclienteventqueue
+aimapmailfolder
+aimapmailfolder
+aclienteventqueue
+nserrornullpointer
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+aimapmailfolder
+nsresult
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+aimapmailfolder
+aurllistener
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+rv
+setimapurlsink
+aimapmailfolder
+imapurl
+nssucceeded
+rv
+nscomptr
+nsiuri
+uri
+doqueryinterface
+imapurl
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+imapurl
+mailnewsurl
+mailnewsurl
+setmsgwindow
+amsgwindow
+urlspec
+append
+discoverallboxes
+nscomptr
+nsiuri
+url
+doqueryinterface
+imapurl
+rv
+rv
+uri
+setspec
+urlspec
+nssucceeded
+rv
+rv
+getimapconnectionandloadurl
+aclienteventqueue
+imapurl
+nsnull
+aurl
+rv
+nsimethodimp
+nsimapservice
+discoverallandsubscribedfolders
+nsieventqueue
+aclienteventqueue
+nsimsgfolder
+aimapmailfolder
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+nsassertion
+aimapmailfolder
+aclienteventqueue
+oops
+aclienteventqueue
+aimapmailfolder
+aimapmailfolder
+aclienteventqueue
+nserrornullpointer
+nscomptr
+nsiimapurl
+aimapurl
+nscautostring
+urlspec
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+aimapmailfolder
+nsresult
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+aimapurl
+aimapmailfolder
+aurllistener
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+aimapurl
+rv
+setimapurlsink
+aimapmailfolder
+aimapurl
+nssucceeded
+rv
+nscomptr
+nsiuri
+uri
+doqueryinterface
+aimapurl
+urlspec
+append
+discoverallandsubscribedboxes
+rv
+uri
+setspec
+urlspec
+nssucceeded
+rv
+rv
+getimapconnectionandloadurl
+aclienteventqueue
+aimapurl
+nsnull
+aurl
+rv
+nsimethodimp
+nsimapservice
+discoverchildren
+nsieventqueue
+aclienteventqueue
+nsimsgfolder
+aimapmailfolder
+nsiurllistener
+aurllistener
+folderpath
+nsiuri
+aurl
+nsassertion
+aimapmailfolder
+aclienteventqueue
+oops
+aclienteventqueue
+aimapmailfolder
+aimapmailfolder
+aclienteventqueue
+nserrornullpointer
+nscomptr
+nsiimapurl
+aimapurl
+nscautostring
+urlspec
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+aimapmailfolder
+nsresult
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+aimapurl
+aimapmailfolder
+aurllistener
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+rv
+setimapurlsink
+aimapmailfolder
+aimapurl
+nssucceeded
+rv
+folderpath
+folderpath
+nscomptr
+nsiuri
+uri
+doqueryinterface
+aimapurl
+urlspec
+append
+discoverchildren
+urlspec
+append
+hierarchyseparator
+urlspec
+append
+folderpath
+rv
+uri
+setspec
+urlspec
+uridelimiter
+nsresult
+rv
+aimapurl
+getonlinesubdirseparator
+uridelimiter
+nssucceeded
+rv
+hierarchyseparator
+konlinehierarchyseparatorunknown
+uridelimiter
+hierarchyseparator
+aimapurl
+setonlinesubdirseparator
+hierarchyseparator
+nssucceeded
+rv
+rv
+getimapconnectionandloadurl
+aclienteventqueue
+aimapurl
+nsnull
+aurl
+rv
+nserrornullpointer
+rv
+nsimethodimp
+nsimapservice
+discoverlevelchildren
+nsieventqueue
+aclienteventqueue
+nsimsgfolder
+aimapmailfolder
+nsiurllistener
+aurllistener
+folderpath
+print
+level
+nsiuri
+aurl
+nsassertion
+aimapmailfolder
+aclienteventqueue
+oops
+aclienteventqueue
+aimapmailfolder
+aimapmailfolder
+aclienteventqueue
+nserrornullpointer
+nscomptr
+nsiimapurl
+aimapurl
+nscautostring
+urlspec
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+aimapmailfolder
+nsresult
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+aimapurl
+aimapmailfolder
+aurllistener
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+aimapurl
+rv
+setimapurlsink
+aimapmailfolder
+aimapurl
+nssucceeded
+rv
+folderpath
+folderpath
+nserrornullpointer
+nscomptr
+nsiuri
+uri
+doqueryinterface
+aimapurl
+urlspec
+append
+discoverlevelchildren
+urlspec
+appendint
+level
+urlspec
+append
+hierarchyseparator
+urlspec
+append
+folderpath
+rv
+uri
+setspec
+urlspec
+nssucceeded
+rv
+rv
+getimapconnectionandloadurl
+aclienteventqueue
+aimapurl
+nsnull
+aurl
+rv
+nsimethodimp
+nsimapservice
+onlinemessagecopy
+nsieventqueue
+aclienteventqueue
+nsimsgfolder
+asrcfolder
+messageids
+nsimsgfolder
+adstfolder
+prbool
+idsareuids
+prbool
+ismove
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+nsisupports
+copystate
+nsimsgwindow
+amsgwindow
+nsassertion
+asrcfolder
+adstfolder
+messageids
+aclienteventqueue
+fatal
+missing
+key
+parameters
+aclienteventqueue
+asrcfolder
+adstfolder
+messageids
+messageids
+nserrornullpointer
+nsresult
+rv
+nserrorfailure
+nscomptr
+nsimsgincomingserver
+srcserver
+nscomptr
+nsimsgincomingserver
+dstserver
+rv
+asrcfolder
+getserver
+getteraddrefs
+srcserver
+nsfailed
+rv
+rv
+rv
+adstfolder
+getserver
+getteraddrefs
+dstserver
+nsfailed
+rv
+rv
+prbool
+sameserver
+rv
+dstserver
+equals
+srcserver
+sameserver
+nsfailed
+rv
+rv
+sameserver
+nsassertion
+prfalse
+can
+use
+method
+to
+copy
+across
+servers
+nserrorfailure
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+asrcfolder
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+asrcfolder
+aurllistener
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+setimapurlsink
+asrcfolder
+imapurl
+imapurl
+setcopystate
+copystate
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+imapurl
+msgurl
+setmsgwindow
+amsgwindow
+imapurl
+addchanneltoloadgroup
+nscomptr
+nsiuri
+uri
+doqueryinterface
+imapurl
+ismove
+urlspec
+append
+onlinemove
+urlspec
+append
+onlinecopy
+idsareuids
+urlspec
+append
+uidstring
+urlspec
+append
+sequencestring
+urlspec
+append
+urlspec
+append
+hierarchyseparator
+nsxpidlcstring
+foldername
+getfoldername
+asrcfolder
+gettercopies
+foldername
+urlspec
+append
+foldername
+urlspec
+append
+urlspec
+append
+messageids
+urlspec
+append
+urlspec
+append
+hierarchyseparator
+foldername
+adopt
+nscrt
+strdup
+getfoldername
+adstfolder
+gettercopies
+foldername
+urlspec
+append
+foldername
+rv
+uri
+setspec
+urlspec
+nssucceeded
+rv
+rv
+getimapconnectionandloadurl
+aclienteventqueue
+imapurl
+nsnull
+aurl
+rv
+nsresult
+nsimapservice
+offlineappendfromfile
+nsifilespec
+afilespec
+nsiuri
+aurl
+nsimsgfolder
+adstfolder
+messageid
+prbool
+inselectedstate
+nsiurllistener
+alistener
+nsiuri
+aurl
+nsisupports
+acopystate
+nscomptr
+nsimsgdatabase
+destdb
+nsresult
+rv
+adstfolder
+getmsgdatabase
+nsnull
+getteraddrefs
+destdb
+nssucceeded
+rv
+destdb
+nsmsgkey
+fakekey
+destdb
+getnextfakeofflinemsgkey
+fakekey
+nscomptr
+nsimsgofflineimapoperation
+op
+rv
+destdb
+getofflineopforkey
+fakekey
+prtrue
+getteraddrefs
+op
+nssucceeded
+rv
+op
+nsxpidlcstring
+destfolderuri
+adstfolder
+geturi
+gettercopies
+destfolderuri
+op
+setoperation
+nsimsgofflineimapoperation
+kappenddraft
+op
+setdestinationfolderuri
+destfolderuri
+nscomptr
+nsioutputstream
+offlinestore
+rv
+adstfolder
+getofflinestoreoutputstream
+getteraddrefs
+offlinestore
+nssucceeded
+rv
+offlinestore
+pruint
+curofflinestorepos
+nscomptr
+nsiseekablestream
+seekable
+doqueryinterface
+offlinestore
+seekable
+seekable
+tell
+curofflinestorepos
+nsassertion
+prfalse
+needs
+to
+be
+random
+store
+nserrorfailure
+nscomptr
+nsiinputstream
+inputstream
+nscomptr
+nsimsgparsemailmsgstate
+msgparser
+docreateinstance
+nsparsemailmsgstatecontractid
+rv
+msgparser
+setmaildb
+destdb
+nssucceeded
+rv
+rv
+afilespec
+getinputstream
+getteraddrefs
+inputstream
+nssucceeded
+rv
+inputstream
+print
+inputbuffersize
+nsmsglinestreambuffer
+inputstreambuffer
+nsmsglinestreambuffer
+inputbuffersize
+prtrue
+prfalse
+pruint
+filesize
+afilespec
+getfilesize
+filesize
+pruint
+byteswritten
+rv
+nsok
+msgparser
+setstate
+nsimsgparsemailmsgstate
+parseheadersstate
+msgparser
+setenvelopepos
+fakekey
+prbool
+needmoredata
+prfalse
+newline
+nsnull
+pruint
+numbytesinline
+newline
+inputstreambuffer
+readnextline
+inputstream
+numbytesinline
+needmoredata
+newline
+msgparser
+parseafolderline
+newline
+numbytesinline
+rv
+offlinestore
+write
+newline
+numbytesinline
+byteswritten
+nscrt
+free
+newline
+newline
+nscomptr
+nsimsgdbhdr
+fakehdr
+msgparser
+finishheader
+msgparser
+getnewmsghdr
+getteraddrefs
+fakehdr
+fakehdr
+nssucceeded
+rv
+fakehdr
+pruint
+resultflags
+fakehdr
+setmessageoffset
+curofflinestorepos
+fakehdr
+orflags
+msgflagoffline
+msgflagread
+resultflags
+fakehdr
+setofflinemessagesize
+filesize
+destdb
+addnewhdrtodb
+fakehdr
+prtrue
+adstfolder
+setflag
+msgfolderflagofflineevents
+inputstream
+nsnull
+afilespec
+closestream
+alistener
+onstoprunningurl
+aurl
+nsok
+inputstreambuffer
+destdb
+destdb
+close
+prtrue
+rv
+nsimethodimp
+nsimapservice
+appendmessagefromfile
+nsieventqueue
+aclienteventqueue
+nsifilespec
+afilespec
+nsimsgfolder
+adstfolder
+messageid
+prbool
+idsareuids
+prbool
+inselectedstate
+nsiurllistener
+alistener
+nsiuri
+aurl
+nsisupports
+acopystate
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+nserrornullpointer
+aclienteventqueue
+afilespec
+adstfolder
+rv
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+adstfolder
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+adstfolder
+alistener
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+imapurl
+msgurl
+amsgwindow
+msgurl
+setmsgwindow
+amsgwindow
+imapurl
+addchanneltoloadgroup
+setimapurlsink
+adstfolder
+imapurl
+imapurl
+setmsgfilespec
+afilespec
+imapurl
+setcopystate
+acopystate
+nscomptr
+nsiuri
+uri
+doqueryinterface
+imapurl
+inselectedstate
+urlspec
+append
+appenddraftfromfile
+urlspec
+append
+appendmsgfromfile
+urlspec
+append
+hierarchyseparator
+nsxpidlcstring
+foldername
+getfoldername
+adstfolder
+gettercopies
+foldername
+urlspec
+append
+foldername
+inselectedstate
+urlspec
+append
+idsareuids
+urlspec
+append
+uidstring
+urlspec
+append
+sequencestring
+urlspec
+append
+messageid
+urlspec
+append
+messageid
+rv
+uri
+setspec
+urlspec
+weareoffline
+offlineappendfromfile
+afilespec
+uri
+adstfolder
+messageid
+inselectedstate
+alistener
+aurl
+acopystate
+nssucceeded
+rv
+rv
+getimapconnectionandloadurl
+aclienteventqueue
+imapurl
+nsnull
+aurl
+rv
+nsresult
+nsimapservice
+getimapconnectionandloadurl
+nsieventqueue
+aclienteventqueue
+nsiimapurl
+aimapurl
+nsisupports
+aconsumer
+nsiuri
+aurl
+nsensurearg
+aimapurl
+weareoffline
+nsimapaction
+imapaction
+aimapurl
+getimapaction
+imapaction
+imapaction
+nsiimapurl
+nsimapmsgfetch
+imapaction
+nsiimapurl
+nsimapsavemessagetodisk
+nsmsgerroroffline
+nsresult
+rv
+nsok
+nscomptr
+nsimsgincomingserver
+amsgincomingserver
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+aimapurl
+rv
+msgurl
+getserver
+getteraddrefs
+amsgincomingserver
+aurl
+aurl
+msgurl
+nsifaddref
+aurl
+nssucceeded
+rv
+amsgincomingserver
+nscomptr
+nsiimapincomingserver
+aimapserver
+doqueryinterface
+amsgincomingserver
+rv
+nssucceeded
+rv
+aimapserver
+rv
+aimapserver
+getimapconnectionandloadurl
+aclienteventqueue
+aimapurl
+aconsumer
+rv
+nsimethodimp
+nsimapservice
+movefolder
+nsieventqueue
+eventqueue
+nsimsgfolder
+srcfolder
+nsimsgfolder
+dstfolder
+nsiurllistener
+urllistener
+nsimsgwindow
+msgwindow
+nsiuri
+url
+nsassertion
+eventqueue
+srcfolder
+dstfolder
+oops
+pointer
+eventqueue
+srcfolder
+dstfolder
+nserrornullpointer
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+nsresult
+rv
+prunichar
+defaulthierarchyseparator
+gethierarchydelimiter
+dstfolder
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+dstfolder
+urllistener
+urlspec
+defaulthierarchyseparator
+nssucceeded
+rv
+imapurl
+rv
+setimapurlsink
+dstfolder
+imapurl
+nssucceeded
+rv
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+imapurl
+mailnewsurl
+mailnewsurl
+setmsgwindow
+msgwindow
+hierarchyseparator
+konlinehierarchyseparatorunknown
+nsxpidlcstring
+foldername
+nscomptr
+nsiuri
+uri
+doqueryinterface
+imapurl
+getfoldername
+srcfolder
+gettercopies
+foldername
+urlspec
+append
+movefolderhierarchy
+urlspec
+append
+hierarchyseparator
+urlspec
+append
+foldername
+urlspec
+append
+foldername
+adopt
+nscrt
+strdup
+getfoldername
+dstfolder
+gettercopies
+foldername
+foldername
+foldername
+urlspec
+append
+hierarchyseparator
+urlspec
+append
+foldername
+rv
+uri
+setspec
+urlspec
+nssucceeded
+rv
+getfoldername
+srcfolder
+gettercopies
+foldername
+rv
+getimapconnectionandloadurl
+eventqueue
+imapurl
+nsnull
+url
+rv
+nsimethodimp
+nsimapservice
+renameleaf
+nsieventqueue
+eventqueue
+nsimsgfolder
+srcfolder
+prunichar
+newleafname
+nsiurllistener
+urllistener
+nsimsgwindow
+msgwindow
+nsiuri
+url
+nsassertion
+eventqueue
+srcfolder
+newleafname
+newleafname
+oops
+renameleaf
+pointers
+eventqueue
+srcfolder
+newleafname
+newleafname
+nserrornullpointer
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+nsresult
+rv
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+srcfolder
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+srcfolder
+urllistener
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+rv
+setimapurlsink
+srcfolder
+imapurl
+nssucceeded
+rv
+nscomptr
+nsiuri
+uri
+doqueryinterface
+imapurl
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+imapurl
+mailnewsurl
+mailnewsurl
+setmsgwindow
+msgwindow
+nsxpidlcstring
+foldername
+getfoldername
+srcfolder
+gettercopies
+foldername
+urlspec
+append
+rename
+urlspec
+append
+hierarchyseparator
+urlspec
+append
+foldername
+urlspec
+append
+urlspec
+append
+hierarchyseparator
+utfnewname
+createutfconvertedstringfromunicode
+newleafname
+nscautostring
+cstrfoldername
+nsstaticcast
+foldername
+nsunescape
+nsconstcast
+cstrfoldername
+get
+print
+leafnamestart
+cstrfoldername
+rfindchar
+hierarchyseparator
+leafnamestart
+cstrfoldername
+setlength
+leafnamestart
+urlspec
+append
+cstrfoldername
+escapednewname
+nsescape
+utfnewname
+urlpath
+escapednewname
+nserroroutofmemory
+nsxpidlcstring
+escapedslashname
+rv
+nsimapurl
+escapeslashes
+escapednewname
+gettercopies
+escapedslashname
+escapedslashname
+nserroroutofmemory
+urlspec
+append
+escapedslashname
+get
+nscrt
+free
+escapednewname
+nscrt
+free
+utfnewname
+rv
+uri
+setspec
+urlspec
+nssucceeded
+rv
+rv
+getimapconnectionandloadurl
+eventqueue
+imapurl
+nsnull
+url
+rv
+nsimethodimp
+nsimapservice
+createfolder
+nsieventqueue
+eventqueue
+nsimsgfolder
+parent
+prunichar
+newfoldername
+nsiurllistener
+urllistener
+nsiuri
+url
+nsassertion
+eventqueue
+parent
+newfoldername
+newfoldername
+oops
+createfolder
+pointers
+eventqueue
+parent
+newfoldername
+newfoldername
+nserrornullpointer
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+nsresult
+rv
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+parent
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+parent
+urllistener
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+imapurl
+rv
+setimapurlsink
+parent
+imapurl
+nssucceeded
+rv
+nscomptr
+nsiuri
+uri
+doqueryinterface
+imapurl
+nsxpidlcstring
+foldername
+getfoldername
+parent
+gettercopies
+foldername
+urlspec
+append
+create
+urlspec
+append
+hierarchyseparator
+foldername
+isempty
+nsxpidlcstring
+canonicalname
+nsimapurl
+converttocanonicalformat
+foldername
+hierarchyseparator
+gettercopies
+canonicalname
+urlspec
+append
+canonicalname
+urlspec
+append
+hierarchyseparator
+utfnewname
+createutfconvertedstringfromunicode
+newfoldername
+escapedfoldername
+nsescape
+utfnewname
+urlpath
+urlspec
+append
+escapedfoldername
+nscrt
+free
+escapedfoldername
+nscrt
+free
+utfnewname
+rv
+uri
+setspec
+urlspec
+nssucceeded
+rv
+rv
+getimapconnectionandloadurl
+eventqueue
+imapurl
+nsnull
+url
+rv
+nsimethodimp
+nsimapservice
+ensurefolderexists
+nsieventqueue
+eventqueue
+nsimsgfolder
+parent
+prunichar
+newfoldername
+nsiurllistener
+urllistener
+nsiuri
+url
+nsassertion
+eventqueue
+parent
+newfoldername
+newfoldername
+oops
+ensureexists
+pointers
+eventqueue
+parent
+newfoldername
+newfoldername
+nserrornullpointer
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+nsresult
+rv
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+parent
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+parent
+urllistener
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+imapurl
+rv
+setimapurlsink
+parent
+imapurl
+nssucceeded
+rv
+nscomptr
+nsiuri
+uri
+doqueryinterface
+imapurl
+nsxpidlcstring
+foldername
+getfoldername
+parent
+gettercopies
+foldername
+urlspec
+append
+ensureexists
+urlspec
+append
+hierarchyseparator
+foldername
+isempty
+urlspec
+append
+foldername
+urlspec
+append
+hierarchyseparator
+utfnewname
+createutfconvertedstringfromunicode
+newfoldername
+escapedfoldername
+nsescape
+utfnewname
+urlpath
+urlspec
+append
+escapedfoldername
+nscrt
+free
+escapedfoldername
+nscrt
+free
+utfnewname
+rv
+uri
+setspec
+urlspec
+nssucceeded
+rv
+rv
+getimapconnectionandloadurl
+eventqueue
+imapurl
+nsnull
+url
+rv
+nsimethodimp
+nsimapservice
+listfolder
+nsieventqueue
+aclienteventqueue
+nsimsgfolder
+aimapmailfolder
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+nsassertion
+aclienteventqueue
+aimapmailfolder
+oops
+renameleaf
+pointers
+aclienteventqueue
+aimapmailfolder
+nserrornullpointer
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+nsresult
+rv
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+aimapmailfolder
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+aimapmailfolder
+aurllistener
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+imapurl
+rv
+setimapurlsink
+aimapmailfolder
+imapurl
+nssucceeded
+rv
+nscomptr
+nsiuri
+uri
+doqueryinterface
+imapurl
+nsxpidlcstring
+foldername
+getfoldername
+aimapmailfolder
+gettercopies
+foldername
+urlspec
+append
+listfolder
+urlspec
+append
+hierarchyseparator
+foldername
+isempty
+urlspec
+append
+foldername
+rv
+uri
+setspec
+urlspec
+nssucceeded
+rv
+rv
+getimapconnectionandloadurl
+aclienteventqueue
+imapurl
+nsnull
+aurl
+rv
+ifdef
+haveport
+createimapmessageheaderurl
+imaphost
+mailbox
+hierarchyseparator
+messageidentifierlist
+xpbool
+messageidsareuid
+formatstring
+header
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+nscrt
+strlen
+sequencestring
+nscrt
+strlen
+mailbox
+nscrt
+strlen
+messageidentifierlist
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+messageidsareuid
+uidstring
+sequencestring
+hierarchyseparator
+mailbox
+messageidentifierlist
+returnstring
+createimapmailboxnoopurl
+imaphost
+mailbox
+hierarchyseparator
+formatstring
+selectnoop
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+nscrt
+strlen
+mailbox
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+hierarchyseparator
+mailbox
+returnstring
+createimapmailboxexpungeurl
+imaphost
+mailbox
+hierarchyseparator
+formatstring
+expunge
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+nscrt
+strlen
+mailbox
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+hierarchyseparator
+mailbox
+returnstring
+createimapmailboxcreateurl
+imaphost
+mailbox
+hierarchyseparator
+formatstring
+create
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+nscrt
+strlen
+mailbox
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+hierarchyseparator
+mailbox
+returnstring
+createimapchilddiscoveryurl
+imaphost
+mailbox
+hierarchyseparator
+formatstring
+discoverchildren
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+nscrt
+strlen
+mailbox
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+hierarchyseparator
+mailbox
+returnstring
+createimaplevelchilddiscoveryurl
+imaphost
+mailbox
+hierarchyseparator
+formatstring
+discoverlevelchildren
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+nscrt
+strlen
+mailbox
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+hierarchyseparator
+mailbox
+returnstring
+createimapmailboxdeleteurl
+imaphost
+mailbox
+hierarchyseparator
+formatstring
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+nscrt
+strlen
+mailbox
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+hierarchyseparator
+mailbox
+returnstring
+createimapmailboxrenameleafurl
+imaphost
+oldboxpathname
+hierarchyseparator
+newboxleafname
+formatstring
+rename
+returnstring
+slash
+newpath
+prmalloc
+nscrt
+strlen
+oldboxpathname
+nscrt
+strlen
+newboxleafname
+newpath
+nscrt
+strcpy
+newpath
+oldboxpathname
+slash
+nscrt
+strrchr
+newpath
+slash
+slash
+slash
+newpath
+nscrt
+strcpy
+slash
+newboxleafname
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+nscrt
+strlen
+oldboxpathname
+nscrt
+strlen
+newpath
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+hierarchyseparator
+oldboxpathname
+hierarchyseparator
+newpath
+xpfree
+newpath
+returnstring
+createimapmailboxmovefolderhierarchyurl
+imaphost
+oldboxpathname
+oldhierarchyseparator
+newboxpathname
+newhierarchyseparator
+formatstring
+movefolderhierarchy
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+nscrt
+strlen
+oldboxpathname
+nscrt
+strlen
+newboxpathname
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+oldhierarchyseparator
+oldboxpathname
+newhierarchyseparator
+newboxpathname
+returnstring
+createimaplisturl
+imaphost
+mailbox
+hierarchyseparator
+formatstring
+list
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+nscrt
+strlen
+mailbox
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+hierarchyseparator
+mailbox
+returnstring
+createimapbiffurl
+imaphost
+mailbox
+hierarchyseparator
+uint
+uidhighwater
+formatstring
+biff
+ld
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+nscrt
+strlen
+mailbox
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+hierarchyseparator
+mailbox
+uidhighwater
+returnstring
+sequencestring
+sequence
+uidstring
+uid
+createimapmessagefetchurl
+imaphost
+mailbox
+hierarchyseparator
+messageidentifierlist
+xpbool
+messageidsareuid
+formatstring
+fetch
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+nscrt
+strlen
+sequencestring
+nscrt
+strlen
+mailbox
+nscrt
+strlen
+messageidentifierlist
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+messageidsareuid
+uidstring
+sequencestring
+hierarchyseparator
+mailbox
+messageidentifierlist
+returnstring
+createimapmessageheaderurl
+imaphost
+mailbox
+hierarchyseparator
+messageidentifierlist
+xpbool
+messageidsareuid
+formatstring
+header
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+nscrt
+strlen
+sequencestring
+nscrt
+strlen
+mailbox
+nscrt
+strlen
+messageidentifierlist
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+messageidsareuid
+uidstring
+sequencestring
+hierarchyseparator
+mailbox
+messageidentifierlist
+returnstring
+createimapsearchurl
+imaphost
+mailbox
+hierarchyseparator
+searchstring
+xpbool
+messageidsareuid
+formatstring
+search
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+nscrt
+strlen
+sequencestring
+nscrt
+strlen
+mailbox
+nscrt
+strlen
+searchstring
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+messageidsareuid
+uidstring
+sequencestring
+hierarchyseparator
+mailbox
+searchstring
+returnstring
+createimapdeletemessageurl
+imaphost
+mailbox
+hierarchyseparator
+messageids
+xpbool
+idsareuids
+formatstring
+deletemsg
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+nscrt
+strlen
+sequencestring
+nscrt
+strlen
+mailbox
+nscrt
+strlen
+messageids
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+idsareuids
+uidstring
+sequencestring
+hierarchyseparator
+mailbox
+messageids
+returnstring
+createimapdeleteallmessagesurl
+imaphost
+mailbox
+hierarchyseparator
+formatstring
+deleteallmsgs
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+nscrt
+strlen
+mailbox
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+hierarchyseparator
+mailbox
+returnstring
+createimapaddmessageflagsurl
+imaphost
+mailbox
+hierarchyseparator
+messageids
+imapmessageflagstype
+flags
+xpbool
+idsareuids
+formatstring
+addmsgflags
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+nscrt
+strlen
+sequencestring
+nscrt
+strlen
+mailbox
+nscrt
+strlen
+messageids
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+idsareuids
+uidstring
+sequencestring
+hierarchyseparator
+mailbox
+messageids
+flags
+returnstring
+createimapsubtractmessageflagsurl
+imaphost
+mailbox
+hierarchyseparator
+messageids
+imapmessageflagstype
+flags
+xpbool
+idsareuids
+formatstring
+subtractmsgflags
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+nscrt
+strlen
+sequencestring
+nscrt
+strlen
+mailbox
+nscrt
+strlen
+messageids
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+idsareuids
+uidstring
+sequencestring
+hierarchyseparator
+mailbox
+messageids
+flags
+returnstring
+createimapsetmessageflagsurl
+imaphost
+mailbox
+hierarchyseparator
+messageids
+imapmessageflagstype
+flags
+xpbool
+idsareuids
+formatstring
+setmsgflags
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+nscrt
+strlen
+sequencestring
+nscrt
+strlen
+mailbox
+nscrt
+strlen
+messageids
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+idsareuids
+uidstring
+sequencestring
+hierarchyseparator
+mailbox
+messageids
+flags
+returnstring
+createimaponlinecopyurl
+imaphost
+sourcemailbox
+sourcehierarchyseparator
+messageids
+destinationmailbox
+destinationhierarchyseparator
+xpbool
+idsareuids
+xpbool
+ismove
+formatstring
+movestring
+onlinemove
+copystring
+onlinecopy
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+nscrt
+strlen
+movestring
+nscrt
+strlen
+sequencestring
+nscrt
+strlen
+sourcemailbox
+nscrt
+strlen
+messageids
+nscrt
+strlen
+destinationmailbox
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+ismove
+movestring
+copystring
+idsareuids
+uidstring
+sequencestring
+sourcehierarchyseparator
+sourcemailbox
+messageids
+destinationhierarchyseparator
+destinationmailbox
+returnstring
+createimapontoofflinecopyurl
+imaphost
+sourcemailbox
+sourcehierarchyseparator
+messageids
+destinationmailbox
+xpbool
+idsareuids
+xpbool
+ismove
+formatstring
+movestring
+onlinetoofflinemove
+copystring
+onlinetoofflinecopy
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+nscrt
+strlen
+movestring
+nscrt
+strlen
+sequencestring
+nscrt
+strlen
+sourcemailbox
+nscrt
+strlen
+messageids
+nscrt
+strlen
+destinationmailbox
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+ismove
+movestring
+copystring
+idsareuids
+uidstring
+sequencestring
+sourcehierarchyseparator
+sourcemailbox
+messageids
+konlinehierarchyseparatorunknown
+destinationmailbox
+returnstring
+createimapofftoonlinecopyurl
+imaphost
+destinationmailbox
+destinationhierarchyseparator
+formatstring
+offlinetoonlinecopy
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+nscrt
+strlen
+destinationmailbox
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+destinationhierarchyseparator
+destinationmailbox
+returnstring
+createimapmanagemailaccounturl
+imaphost
+formatstring
+netscape
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+nsmsgsacat
+returnstring
+formatstring
+returnstring
+createimaprefreshaclforfolderurl
+imaphost
+mailboxname
+delimiter
+formatstring
+refreshacl
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+nscrt
+strlen
+mailboxname
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+delimiter
+mailboxname
+returnstring
+createimaprefreshaclforallfoldersurl
+imaphost
+formatstring
+refreshallacls
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+returnstring
+createimapupgradetosubscriptionurl
+imaphost
+xpbool
+subscribetoall
+formatstring
+upgradetosubscription
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+subscribetoall
+formatstring
+nscrt
+strlen
+formatstring
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+returnstring
+createimapstatusfolderurl
+imaphost
+mailboxname
+hierarchyseparator
+formatstring
+folderstatus
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+nscrt
+strlen
+mailboxname
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+hierarchyseparator
+mailboxname
+returnstring
+imapcreatereloadallpartsurl
+url
+returnurl
+prsmprintf
+allparts
+url
+returnurl
+createimaplistfolderurl
+imaphost
+mailboxname
+delimiter
+formatstring
+listfolder
+returnstring
+createstartofimapurl
+imaphost
+nscrt
+strlen
+formatstring
+nscrt
+strlen
+mailboxname
+returnstring
+sprintf
+returnstring
+nscrt
+strlen
+returnstring
+formatstring
+delimiter
+mailboxname
+returnstring
+endif
+nsimethodimp
+nsimapservice
+getscheme
+nsacstring
+ascheme
+ascheme
+imap
+nsok
+nsimethodimp
+nsimapservice
+getdefaultport
+print
+adefaultport
+nsensureargpointer
+adefaultport
+adefaultport
+imapport
+nsok
+nsimethodimp
+nsimapservice
+getprotocolflags
+pruint
+result
+result
+uristd
+allowsproxy
+nsok
+nsimethodimp
+nsimapservice
+allowport
+print
+port
+scheme
+prbool
+retval
+retval
+prtrue
+nsok
+nsimethodimp
+nsimapservice
+getdefaultdobiff
+prbool
+adobiff
+nsensureargpointer
+adobiff
+adobiff
+prtrue
+nsok
+nsimethodimp
+nsimapservice
+getdefaultserverport
+prbool
+issecure
+print
+adefaultport
+nsresult
+rv
+nsok
+issecure
+adefaultport
+secureimapport
+rv
+getdefaultport
+adefaultport
+rv
+nsresult
+nsimapservice
+createsubscribeuri
+nsimsgincomingserver
+server
+foldername
+nsiuri
+returi
+nscomptr
+nsifolder
+rootfolder
+nsresult
+rv
+server
+getrootfolder
+getteraddrefs
+rootfolder
+nsfailed
+rv
+rv
+nscomptr
+nsimsgfolder
+rootmsgfolder
+doqueryinterface
+rootfolder
+rv
+nsfailed
+rv
+rv
+rootmsgfolder
+nserrorfailure
+prunichar
+hierarchydelimiter
+nscautostring
+urlspec
+nscomptr
+nsiimapurl
+imapurl
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+rootmsgfolder
+nsnull
+urlspec
+hierarchydelimiter
+nssucceeded
+rv
+imapurl
+rv
+setimapurlsink
+rootmsgfolder
+imapurl
+nssucceeded
+rv
+imapurl
+queryinterface
+nsgetiid
+nsiuri
+returi
+urlspec
+append
+subscribe
+urlspec
+append
+hierarchydelimiter
+escapedfoldername
+nsescape
+foldername
+urlpath
+urlspec
+append
+escapedfoldername
+nscrt
+free
+escapedfoldername
+rv
+returi
+setspec
+urlspec
+rv
+nsresult
+nsimapservice
+getserverfromurl
+nsiimapurl
+aimapurl
+nsimsgincomingserver
+aserver
+nscautostring
+userpass
+nscautostring
+hostname
+nsxpidlcstring
+foldername
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+aimapurl
+nsresult
+rv
+mailnewsurl
+getasciihost
+hostname
+nsfailed
+rv
+rv
+rv
+mailnewsurl
+getuserpass
+userpass
+nsfailed
+rv
+rv
+userpass
+isempty
+nsunescapeurl
+userpass
+aimapurl
+createcanonicalsourcefolderpathstring
+gettercopies
+foldername
+foldername
+isempty
+rv
+mailnewsurl
+getfilename
+foldername
+nsfailed
+rv
+rv
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsfailed
+rv
+rv
+rv
+accountmanager
+findserver
+userpass
+get
+hostname
+get
+imap
+aserver
+nsfailed
+rv
+aserver
+rv
+accountmanager
+findserver
+hostname
+get
+imap
+aserver
+aserver
+aimapurl
+setexternallinkurl
+prtrue
+nsfailed
+rv
+rv
+nsensuretrue
+aserver
+nserrorfailure
+rv
+nsimethodimp
+nsimapservice
+newuri
+nsacstring
+aspec
+aorigincharset
+nsiuri
+abaseuri
+nsiuri
+retval
+nscomptr
+nsiimapurl
+aimapurl
+nsresult
+rv
+nscomponentmanager
+createinstance
+kimapurlcid
+nsnull
+nsgetiid
+nsiimapurl
+getteraddrefs
+aimapurl
+nssucceeded
+rv
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+aimapurl
+mailnewsurl
+setspec
+aspec
+nsxpidlcstring
+foldername
+nsxpidlcstring
+urlpath
+aimapurl
+createcanonicalsourcefolderpathstring
+gettercopies
+foldername
+foldername
+isempty
+rv
+mailnewsurl
+getfilename
+foldername
+nsfailed
+rv
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserverfromurl
+aimapurl
+getteraddrefs
+server
+nsfailed
+rv
+rv
+nsensuretrue
+server
+nserrorfailure
+nscomptr
+nsifolder
+rootfolder
+server
+getrootfolder
+getteraddrefs
+rootfolder
+rootfolder
+foldername
+isempty
+nscomptr
+nsifolder
+folder
+nscomptr
+nsimsgimapmailfolder
+imaproot
+doqueryinterface
+rootfolder
+rv
+nscomptr
+nsimsgimapmailfolder
+subfolder
+imaproot
+imaproot
+findonlinesubfolder
+foldername
+getteraddrefs
+subfolder
+folder
+doqueryinterface
+subfolder
+rv
+nssucceeded
+rv
+nscomptr
+nsiimapmessagesink
+msgsink
+doqueryinterface
+folder
+rv
+aimapurl
+setimapmessagesink
+msgsink
+nscomptr
+nsimsgfolder
+msgfolder
+doqueryinterface
+folder
+rv
+setimapurlsink
+msgfolder
+aimapurl
+nsxpidlcstring
+msgkey
+nsxpidlcstring
+messageidstring
+aimapurl
+createlistofmessageidsstring
+gettercopies
+messageidstring
+messageidstring
+get
+prbool
+uselocalcache
+prfalse
+msgfolder
+hasmsgoffline
+atoi
+messageidstring
+uselocalcache
+mailnewsurl
+setmsgisinlocalcache
+uselocalcache
+prbool
+mimepartselectordetected
+prfalse
+aimapurl
+getmimepartselectordetected
+mimepartselectordetected
+mimepartselectordetected
+aimapurl
+setfetchpartsondemand
+prtrue
+aimapurl
+queryinterface
+nsgetiid
+nsiuri
+retval
+rv
+nsimethodimp
+nsimapservice
+newchannel
+nsiuri
+auri
+nsichannel
+retval
+nsresult
+rv
+nsok
+nscomptr
+nsiimapmockchannel
+mockchannel
+nscomptr
+nsiimapurl
+imapurl
+doqueryinterface
+auri
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+imapurl
+rv
+imapurl
+initializeuriformockchannel
+rv
+imapurl
+getmockchannel
+getteraddrefs
+mockchannel
+nsfailed
+rv
+mockchannel
+imapurl
+initialize
+rv
+imapurl
+initializeuriformockchannel
+rv
+imapurl
+getmockchannel
+getteraddrefs
+mockchannel
+mockchannel
+nserrorfailure
+prbool
+externallinkurl
+imapurl
+getexternallinkurl
+externallinkurl
+externallinkurl
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserverfromurl
+imapurl
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+foldername
+imapurl
+createcanonicalsourcefolderpathstring
+gettercopies
+foldername
+foldername
+isempty
+rv
+mailnewsurl
+getfilename
+foldername
+foldername
+isempty
+nsunescapeurl
+foldername
+nscomptr
+nsifolder
+afolder
+nscomptr
+nsifolder
+rootfolder
+server
+getrootfolder
+getteraddrefs
+rootfolder
+nscomptr
+nsimsgimapmailfolder
+imaproot
+doqueryinterface
+rootfolder
+nscomptr
+nsimsgimapmailfolder
+subfolder
+imaproot
+imaproot
+findonlinesubfolder
+foldername
+getteraddrefs
+subfolder
+afolder
+doqueryinterface
+subfolder
+nscomptr
+nsimsgfolder
+msgfolder
+doqueryinterface
+afolder
+nscomptr
+nsifolder
+parent
+afolder
+afolder
+getparent
+getteraddrefs
+parent
+nsxpidlcstring
+serverkey
+nscautostring
+userpass
+rv
+mailnewsurl
+getuserpass
+userpass
+server
+getkey
+gettercopies
+serverkey
+fullfoldername
+nsnull
+parent
+fullfoldername
+tonewcstring
+foldername
+parent
+foldername
+isempty
+fullfoldername
+nsimapnamespacelist
+generatefullfoldernamewithdefaultnamespace
+serverkey
+get
+foldername
+get
+userpass
+get
+kotherusersnamespace
+nsnull
+rv
+imaproot
+findonlinesubfolder
+fullfoldername
+getteraddrefs
+subfolder
+afolder
+doqueryinterface
+subfolder
+afolder
+afolder
+getparent
+getteraddrefs
+parent
+parent
+foldername
+isempty
+fullfoldername
+nscomptr
+nsiprompt
+dialog
+nscomptr
+nsiwindowwatcher
+wwatch
+dogetservice
+nswindowwatchercontractid
+rv
+nsensuresuccess
+rv
+rv
+wwatch
+getnewprompter
+nsnull
+getteraddrefs
+dialog
+nsxpidlstring
+statusstring
+confirmtext
+nscomptr
+nsistringbundle
+bundle
+rv
+imapgetstringbundle
+getteraddrefs
+bundle
+nsensuresuccess
+rv
+rv
+nsxpidlstring
+unescapedname
+createunicodestringfromutf
+fullfoldername
+gettercopies
+unescapedname
+prunichar
+formatstrings
+unescapedname
+get
+rv
+bundle
+formatstringfromid
+imapsubscribeprompt
+formatstrings
+gettercopies
+confirmtext
+nsensuresuccess
+rv
+rv
+prbool
+confirmresult
+prfalse
+rv
+dialog
+confirm
+nsnull
+confirmtext
+confirmresult
+nsensuresuccess
+rv
+rv
+confirmresult
+nscomptr
+nsiimapincomingserver
+imapserver
+doqueryinterface
+server
+imapserver
+nscomptr
+nsiuri
+subscribeuri
+nsautostring
+unicodename
+unicodename
+assignwithconversion
+fullfoldername
+rv
+imapserver
+subscribetofolder
+unicodename
+get
+prtrue
+getteraddrefs
+subscribeuri
+nssucceeded
+rv
+subscribeuri
+nscomptr
+nsiimapurl
+imapsubscribeurl
+doqueryinterface
+subscribeuri
+imapsubscribeurl
+imapsubscribeurl
+setexternallinkurl
+prtrue
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+subscribeuri
+mailnewsurl
+nscomptr
+nsimsgmailsession
+mailsession
+dogetservice
+nsmsgmailsessioncontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgwindow
+msgwindow
+rv
+mailsession
+gettopmostmsgwindow
+getteraddrefs
+msgwindow
+nssucceeded
+rv
+msgwindow
+mailnewsurl
+setmsgwindow
+msgwindow
+nscomptr
+nsiurllistener
+listener
+doqueryinterface
+rootfolder
+listener
+mailnewsurl
+registerlistener
+listener
+rv
+nserrorfailure
+retval
+nsnull
+prfree
+fullfoldername
+fullfoldername
+nscomptr
+nsimsgfolder
+imapfolder
+nscomptr
+nsiimapserversink
+serversink
+mailnewsurl
+getfolder
+getteraddrefs
+imapfolder
+imapurl
+getimapserversink
+getteraddrefs
+serversink
+imapfolder
+nscomptr
+nsimsgmailsession
+mailsession
+dogetservice
+nsmsgmailsessioncontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgwindow
+msgwindow
+rv
+mailsession
+gettopmostmsgwindow
+getteraddrefs
+msgwindow
+nssucceeded
+rv
+msgwindow
+nsxpidlcstring
+uri
+rootfolder
+geturi
+gettercopies
+uri
+uri
+append
+uri
+append
+fullfoldername
+msgwindow
+selectfolder
+uri
+get
+retval
+nsnull
+rv
+nserrorfailure
+imapurl
+setimapaction
+nsiimapurl
+nsimapselectfolder
+nssucceeded
+rv
+nsifaddref
+retval
+mockchannel
+rv
+nsimethodimp
+nsimapservice
+setdefaultlocalpath
+nsifilespec
+apath
+nsresult
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nsfailed
+rv
+rv
+prefbranch
+setcomplexvalue
+prefmailrootimap
+nsgetiid
+nsifilespec
+apath
+nsimethodimp
+nsimapservice
+getdefaultlocalpath
+nsifilespec
+aresult
+nsensureargpointer
+aresult
+aresult
+nsnull
+nsresult
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nsfailed
+rv
+rv
+prbool
+havepref
+prfalse
+nscomptr
+nsilocalfile
+preflocal
+nscomptr
+nsifile
+localfile
+rv
+prefbranch
+getcomplexvalue
+prefmailrootimap
+nsgetiid
+nsilocalfile
+getteraddrefs
+preflocal
+nssucceeded
+rv
+localfile
+preflocal
+havepref
+prtrue
+localfile
+rv
+nsgetspecialdirectory
+nsappimapmaildir
+getteraddrefs
+localfile
+nsfailed
+rv
+rv
+havepref
+prfalse
+prbool
+exists
+rv
+localfile
+exists
+exists
+nsfailed
+rv
+rv
+exists
+rv
+localfile
+create
+nsifile
+directorytype
+nsfailed
+rv
+rv
+nscomptr
+nsifilespec
+outspec
+rv
+nsnewfilespecfromifile
+localfile
+getteraddrefs
+outspec
+nsfailed
+rv
+rv
+havepref
+exists
+rv
+setdefaultlocalpath
+outspec
+aresult
+outspec
+nsifaddref
+aresult
+rv
+nsimethodimp
+nsimapservice
+getserveriid
+nsiid
+aserveriid
+aserveriid
+nsiid
+nsgetiid
+nsiimapincomingserver
+nsok
+nsimethodimp
+nsimapservice
+getrequiresusername
+prbool
+arequiresusername
+nsensureargpointer
+arequiresusername
+arequiresusername
+prtrue
+nsok
+nsimethodimp
+nsimapservice
+getpreflightprettynamewithemailaddress
+prbool
+apreflightprettynamewithemailaddress
+nsensureargpointer
+apreflightprettynamewithemailaddress
+apreflightprettynamewithemailaddress
+prtrue
+nsok
+nsimethodimp
+nsimapservice
+getcanloginatstartup
+prbool
+acanloginatstartup
+nsensureargpointer
+acanloginatstartup
+acanloginatstartup
+prtrue
+nsok
+nsimethodimp
+nsimapservice
+getcandelete
+prbool
+acandelete
+nsensureargpointer
+acandelete
+acandelete
+prtrue
+nsok
+nsimethodimp
+nsimapservice
+getcanduplicate
+prbool
+acanduplicate
+nsensureargpointer
+acanduplicate
+acanduplicate
+prtrue
+nsok
+nsimethodimp
+nsimapservice
+getcangetmessages
+prbool
+acangetmessages
+nsensureargpointer
+acangetmessages
+acangetmessages
+prtrue
+nsok
+nsimethodimp
+nsimapservice
+getcangetincomingmessages
+prbool
+acangetincomingmessages
+nsensureargpointer
+acangetincomingmessages
+acangetincomingmessages
+prtrue
+nsok
+nsimethodimp
+nsimapservice
+getshowcomposemsglink
+prbool
+showcomposemsglink
+nsensureargpointer
+showcomposemsglink
+showcomposemsglink
+prtrue
+nsok
+nsimethodimp
+nsimapservice
+getneedtobuildspecialfolderuris
+prbool
+needtobuildspecialfolderuris
+nsensureargpointer
+needtobuildspecialfolderuris
+needtobuildspecialfolderuris
+prtrue
+nsok
+nsimethodimp
+nsimapservice
+getspecialfoldersdeletionallowed
+prbool
+specialfoldersdeletionallowed
+nsensureargpointer
+specialfoldersdeletionallowed
+specialfoldersdeletionallowed
+prfalse
+nsok
+nsimethodimp
+nsimapservice
+getlistoffolderswithpath
+nsiimapincomingserver
+aserver
+nsimsgwindow
+amsgwindow
+folderpath
+nsresult
+rv
+ifdef
+debugsspitzer
+printf
+getlistoffolderswithpath
+folderpath
+endif
+nscomptr
+nsimsgincomingserver
+server
+doqueryinterface
+aserver
+server
+nserrorfailure
+nscomptr
+nsimsgfolder
+rootmsgfolder
+rv
+server
+getrootmsgfolder
+getteraddrefs
+rootmsgfolder
+nsfailed
+rv
+rv
+rootmsgfolder
+nserrorfailure
+nscomptr
+nsiurllistener
+listener
+doqueryinterface
+aserver
+rv
+nsfailed
+rv
+rv
+listener
+nserrorfailure
+nscomptr
+nsieventqueue
+queue
+nscomptr
+nsieventqueueservice
+peventqservice
+dogetservice
+keventqueueservicecid
+rv
+nsfailed
+rv
+rv
+rv
+peventqservice
+getthreadeventqueue
+nscurrentthread
+getteraddrefs
+queue
+nsfailed
+rv
+rv
+nscomptr
+nsimsgfolder
+msgfolder
+nscomptr
+nsifolder
+subfolder
+rootmsgfolder
+folderpath
+folderpath
+nscautostring
+tempfoldername
+folderpath
+nscautostring
+tokenstr
+remstr
+changedstr
+print
+slashpos
+tempfoldername
+findchar
+slashpos
+tempfoldername
+left
+tokenstr
+slashpos
+tempfoldername
+right
+remstr
+tempfoldername
+length
+slashpos
+tokenstr
+assign
+tempfoldername
+nscrt
+strcasecmp
+tokenstr
+get
+inbox
+nscrt
+strcmp
+tokenstr
+get
+inbox
+changedstr
+append
+inbox
+changedstr
+append
+tokenstr
+slashpos
+changedstr
+append
+remstr
+rv
+rootmsgfolder
+findsubfolder
+changedstr
+get
+getteraddrefs
+subfolder
+nssucceeded
+rv
+msgfolder
+doqueryinterface
+subfolder
+rv
+discoverchildren
+queue
+msgfolder
+listener
+folderpath
+nsnull
+nsfailed
+rv
+rv
+nsok
+nsimethodimp
+nsimapservice
+getlistoffoldersonserver
+nsiimapincomingserver
+aserver
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+nscomptr
+nsimsgincomingserver
+server
+doqueryinterface
+aserver
+server
+nserrorfailure
+nscomptr
+nsimsgfolder
+rootmsgfolder
+rv
+server
+getrootmsgfolder
+getteraddrefs
+rootmsgfolder
+nsfailed
+rv
+rv
+rootmsgfolder
+nserrorfailure
+nscomptr
+nsiurllistener
+listener
+doqueryinterface
+aserver
+rv
+nsfailed
+rv
+rv
+listener
+nserrorfailure
+nscomptr
+nsieventqueue
+queue
+nscomptr
+nsieventqueueservice
+peventqservice
+dogetservice
+keventqueueservicecid
+rv
+nsfailed
+rv
+rv
+rv
+peventqservice
+getthreadeventqueue
+nscurrentthread
+getteraddrefs
+queue
+nsfailed
+rv
+rv
+rv
+discoverallandsubscribedfolders
+queue
+rootmsgfolder
+listener
+nsnull
+nsfailed
+rv
+rv
+nsok
+nsimethodimp
+nsimapservice
+subscribefolder
+nsieventqueue
+eventqueue
+nsimsgfolder
+afolder
+prunichar
+afoldername
+nsiurllistener
+urllistener
+nsiuri
+url
+nsensureargpointer
+eventqueue
+nsensureargpointer
+afolder
+nsensureargpointer
+afoldername
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+nsresult
+rv
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+afolder
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+afolder
+urllistener
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+imapurl
+rv
+setimapurlsink
+afolder
+imapurl
+nssucceeded
+rv
+nscomptr
+nsiuri
+uri
+doqueryinterface
+imapurl
+urlspec
+append
+subscribe
+urlspec
+append
+hierarchyseparator
+utffoldername
+createutfconvertedstringfromunicode
+afoldername
+escapedfoldername
+nsescape
+utffoldername
+urlpath
+urlspec
+append
+escapedfoldername
+nscrt
+free
+escapedfoldername
+nscrt
+free
+utffoldername
+rv
+uri
+setspec
+urlspec
+nssucceeded
+rv
+rv
+getimapconnectionandloadurl
+eventqueue
+imapurl
+nsnull
+url
+rv
+nsimethodimp
+nsimapservice
+unsubscribefolder
+nsieventqueue
+eventqueue
+nsimsgfolder
+afolder
+prunichar
+foldername
+nsiurllistener
+urllistener
+nsiuri
+url
+nsensureargpointer
+eventqueue
+nsensureargpointer
+afolder
+nsensureargpointer
+foldername
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+nsresult
+rv
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+afolder
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+afolder
+urllistener
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+imapurl
+rv
+setimapurlsink
+afolder
+imapurl
+nssucceeded
+rv
+nscomptr
+nsiuri
+uri
+doqueryinterface
+imapurl
+urlspec
+append
+unsubscribe
+urlspec
+append
+hierarchyseparator
+utffoldername
+createutfconvertedstringfromunicode
+foldername
+escapedfoldername
+nsescape
+utffoldername
+urlpath
+urlspec
+append
+escapedfoldername
+nscrt
+free
+escapedfoldername
+nscrt
+free
+utffoldername
+rv
+uri
+setspec
+urlspec
+nssucceeded
+rv
+rv
+getimapconnectionandloadurl
+eventqueue
+imapurl
+nsnull
+url
+rv
+nsimethodimp
+nsimapservice
+getfolderadminurl
+nsieventqueue
+aclienteventqueue
+nsimsgfolder
+animapfolder
+nsimsgwindow
+amsgwindow
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+nsensureargpointer
+aclienteventqueue
+nsensureargpointer
+animapfolder
+nsensureargpointer
+amsgwindow
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+nsresult
+rv
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+animapfolder
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+animapfolder
+aurllistener
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+imapurl
+rv
+imapurl
+setimapaction
+nsiimapurl
+nsimaprefreshfolderurls
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+imapurl
+mailnewsurl
+setmsgwindow
+amsgwindow
+mailnewsurl
+setupdatingfolder
+prtrue
+imapurl
+addchanneltoloadgroup
+rv
+setimapurlsink
+animapfolder
+imapurl
+nssucceeded
+rv
+nsxpidlcstring
+foldername
+getfoldername
+animapfolder
+gettercopies
+foldername
+urlspec
+append
+refreshfolderurls
+urlspec
+append
+hierarchyseparator
+urlspec
+append
+foldername
+rv
+mailnewsurl
+setspec
+urlspec
+nssucceeded
+rv
+rv
+getimapconnectionandloadurl
+aclienteventqueue
+imapurl
+nsnull
+aurl
+rv
+nsimethodimp
+nsimapservice
+issuecommandonmsgs
+nsieventqueue
+aclienteventqueue
+nsimsgfolder
+animapfolder
+nsimsgwindow
+amsgwindow
+acommand
+uids
+nsiuri
+aurl
+nsensureargpointer
+aclienteventqueue
+nsensureargpointer
+animapfolder
+nsensureargpointer
+amsgwindow
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+nsresult
+rv
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+animapfolder
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+animapfolder
+nsnull
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+imapurl
+rv
+imapurl
+setimapaction
+nsiimapurl
+nsimapuserdefinedmsgcommand
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+imapurl
+mailnewsurl
+setmsgwindow
+amsgwindow
+mailnewsurl
+setupdatingfolder
+prtrue
+imapurl
+addchanneltoloadgroup
+rv
+setimapurlsink
+animapfolder
+imapurl
+nssucceeded
+rv
+nsxpidlcstring
+foldername
+getfoldername
+animapfolder
+gettercopies
+foldername
+urlspec
+append
+urlspec
+append
+acommand
+urlspec
+append
+urlspec
+append
+uidstring
+urlspec
+append
+urlspec
+append
+hierarchyseparator
+urlspec
+append
+foldername
+urlspec
+append
+urlspec
+append
+uids
+rv
+mailnewsurl
+setspec
+urlspec
+nssucceeded
+rv
+rv
+getimapconnectionandloadurl
+aclienteventqueue
+imapurl
+nsnull
+aurl
+rv
+nsimethodimp
+nsimapservice
+fetchcustommsgattribute
+nsieventqueue
+aclienteventqueue
+nsimsgfolder
+animapfolder
+nsimsgwindow
+amsgwindow
+aattribute
+uids
+nsiuri
+aurl
+nsensureargpointer
+aclienteventqueue
+nsensureargpointer
+animapfolder
+nsensureargpointer
+amsgwindow
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+nsresult
+rv
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+animapfolder
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+animapfolder
+nsnull
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+imapurl
+rv
+imapurl
+setimapaction
+nsiimapurl
+nsimapuserdefinedfetchattribute
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+imapurl
+mailnewsurl
+setmsgwindow
+amsgwindow
+mailnewsurl
+setupdatingfolder
+prtrue
+imapurl
+addchanneltoloadgroup
+rv
+setimapurlsink
+animapfolder
+imapurl
+nssucceeded
+rv
+nsxpidlcstring
+foldername
+getfoldername
+animapfolder
+gettercopies
+foldername
+urlspec
+append
+customfetch
+uid
+urlspec
+append
+hierarchyseparator
+urlspec
+append
+foldername
+urlspec
+append
+urlspec
+append
+uids
+urlspec
+append
+urlspec
+append
+aattribute
+rv
+mailnewsurl
+setspec
+urlspec
+nssucceeded
+rv
+rv
+getimapconnectionandloadurl
+aclienteventqueue
+imapurl
+nsnull
+aurl
+rv
+nsimethodimp
+nsimapservice
+storecustomkeywords
+nsieventqueue
+aclienteventqueue
+nsimsgfolder
+animapfolder
+nsimsgwindow
+amsgwindow
+flagstoadd
+flagstosubtract
+uids
+nsiuri
+aurl
+nsensureargpointer
+aclienteventqueue
+nsensureargpointer
+animapfolder
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+nsresult
+rv
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+animapfolder
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+animapfolder
+nsnull
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+imapurl
+rv
+imapurl
+setimapaction
+nsiimapurl
+nsimapmsgstorecustomkeywords
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+imapurl
+mailnewsurl
+setmsgwindow
+amsgwindow
+mailnewsurl
+setupdatingfolder
+prtrue
+imapurl
+addchanneltoloadgroup
+rv
+setimapurlsink
+animapfolder
+imapurl
+nssucceeded
+rv
+nsxpidlcstring
+foldername
+getfoldername
+animapfolder
+gettercopies
+foldername
+urlspec
+append
+customkeywords
+uid
+urlspec
+append
+hierarchyseparator
+urlspec
+append
+foldername
+urlspec
+append
+urlspec
+append
+uids
+urlspec
+append
+urlspec
+append
+flagstoadd
+urlspec
+append
+urlspec
+append
+flagstosubtract
+rv
+mailnewsurl
+setspec
+urlspec
+nssucceeded
+rv
+rv
+getimapconnectionandloadurl
+aclienteventqueue
+imapurl
+nsnull
+aurl
+rv
+nsimethodimp
+nsimapservice
+downloadmessagesforoffline
+messageids
+nsimsgfolder
+afolder
+nsiurllistener
+aurllistener
+nsimsgwindow
+amsgwindow
+nsensureargpointer
+afolder
+nsensureargpointer
+messageids
+nscomptr
+nsiimapurl
+imapurl
+nscautostring
+urlspec
+nsresult
+rv
+prunichar
+hierarchyseparator
+gethierarchydelimiter
+afolder
+rv
+createstartofimapurl
+nsnull
+getteraddrefs
+imapurl
+afolder
+nsnull
+urlspec
+hierarchyseparator
+nssucceeded
+rv
+imapurl
+nssucceeded
+rv
+nscomptr
+nsiuri
+runninguri
+nscomptr
+nsiimapmessagesink
+imapmessagesink
+doqueryinterface
+afolder
+rv
+rv
+fetchmessage
+imapurl
+nsimapurl
+nsimapmsgdownloadforoffline
+afolder
+imapmessagesink
+amsgwindow
+nsnull
+messageids
+prfalse
+nsnull
+getteraddrefs
+runninguri
+runninguri
+aurllistener
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+runninguri
+msgurl
+msgurl
+registerlistener
+aurllistener
+rv
+nsimethodimp
+nsimapservice
+messageuritomsghdr
+uri
+nsimsgdbhdr
+retval
+nsensureargpointer
+uri
+nsensureargpointer
+retval
+nsresult
+rv
+nsok
+nscomptr
+nsimsgfolder
+folder
+nsmsgkey
+msgkey
+rv
+decomposeimapuri
+uri
+getteraddrefs
+folder
+msgkey
+nsensuresuccess
+rv
+rv
+rv
+folder
+getmessageheader
+msgkey
+retval
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsimapservice
+playbackallofflineoperations
+nsimsgwindow
+amsgwindow
+nsiurllistener
+alistener
+nsisupports
+aresult
+nsensureargpointer
+aresult
+nsresult
+rv
+nsimapofflinesync
+goonline
+nsimapofflinesync
+amsgwindow
+alistener
+nsnull
+goonline
+rv
+goonline
+queryinterface
+nsgetiid
+nsisupports
+aresult
+nsensuresuccess
+rv
+rv
+nssucceeded
+rv
+aresult
+goonline
+processnextoperation
+nserroroutofmemory
+nsimethodimp
+nsimapservice
+downloadalloffineimapfolders
+nsimsgwindow
+amsgwindow
+nsiurllistener
+alistener
+nsimapofflinedownloader
+downloadforoffline
+nsimapofflinedownloader
+amsgwindow
+alistener
+downloadforoffline
+nsaddref
+downloadforoffline
+nsresult
+rv
+downloadforoffline
+processnextoperation
+nsrelease
+downloadforoffline
+rv
+nserroroutofmemory
+nsimethodimp
+nsimapservice
+getcachesession
+nsicachesession
+result
+nsresult
+rv
+nsok
+mcachesession
+nscomptr
+nsicacheservice
+serv
+dogetservice
+kcacheservicecid
+rv
+nsensuresuccess
+rv
+rv
+rv
+serv
+createsession
+imap
+memory
+only
+nsicache
+storeinmemory
+nsicache
+streambased
+getteraddrefs
+mcachesession
+nsensuresuccess
+rv
+rv
+rv
+mcachesession
+setdoomentriesifexpired
+prfalse
+result
+mcachesession
+nsifaddref
+result
+rv
+nsimethodimp
+nsimapservice
+handlecontent
+acontenttype
+acommand
+nsisupports
+awindowcontext
+nsirequest
+request
+nsresult
+rv
+nsensureargpointer
+request
+nscomptr
+nsichannel
+achannel
+doqueryinterface
+request
+rv
+nsensuresuccess
+rv
+rv
+nscrt
+strcasecmp
+acontenttype
+application
+imapfolder
+nscomptr
+nsiuri
+uri
+rv
+achannel
+geturi
+getteraddrefs
+uri
+nsensuresuccess
+rv
+rv
+uri
+request
+cancel
+nsbindingaborted
+nscomptr
+nsiwindowmediator
+mediator
+dogetservice
+nswindowmediatorcontractid
+rv
+nsensuresuccess
+rv
+rv
+nscautostring
+uristr
+uri
+getspec
+uristr
+nsunescapeurl
+uristr
+nscomptr
+nsimessengerwindowservice
+messengerwindowservice
+dogetservice
+nsmessengerwindowservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+messengerwindowservice
+openmessengerwindowwithuri
+mail
+pane
+uristr
+get
+nsmsgkeynone
+nsensuresuccess
+rv
+rv
+nserrorwonthandlecontent
+rv
\ No newline at end of file
@@ -0,0 +1,71 @@
+prprf
+prmem
+nscomptr
+nsstring
+nsistringbundle
+nsimapstringbundle
+nsiservicemanager
+nsiuri
+define
+imapmsgsurl
+messenger
+locale
+imapmsgs
+properties
+nsresult
+imapgetstringbyid
+print
+stringid
+prunichar
+astring
+nsresult
+res
+nsok
+nscomptr
+nsistringbundle
+sbundle
+res
+imapgetstringbundle
+getteraddrefs
+sbundle
+nssucceeded
+res
+sbundle
+res
+sbundle
+getstringfromid
+stringid
+astring
+res
+nsresult
+imapgetstringbundle
+nsistringbundle
+abundle
+nsresult
+rv
+nsok
+nscomptr
+nsistringbundleservice
+stringservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsensuresuccess
+rv
+rv
+stringservice
+nserrornullpointer
+nscomptr
+nsistringbundle
+stringbundle
+rv
+stringservice
+createbundle
+imapmsgsurl
+getteraddrefs
+stringbundle
+abundle
+stringbundle
+nsifaddref
+abundle
+rv
\ No newline at end of file
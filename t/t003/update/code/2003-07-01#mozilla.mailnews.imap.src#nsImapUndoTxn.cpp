@@ -0,0 +1,1234 @@
+msgcore
+nsmsgimapcid
+nsimsghdr
+nsimapundotxn
+nsxpidlstring
+nsiimaphostsessionlist
+nsimsgincomingserver
+nsidbfolderinfo
+nsdefinecid
+kcimaphostsessionlist
+nsiimaphostsessionlistcid
+nsimapmovecopymsgtxn
+nsimapmovecopymsgtxn
+midsareuids
+prfalse
+mismove
+prfalse
+msrcispop
+prfalse
+nsimapmovecopymsgtxn
+nsimapmovecopymsgtxn
+nsimsgfolder
+srcfolder
+nsmsgkeyarray
+srckeyarray
+srcmsgidstring
+nsimsgfolder
+dstfolder
+prbool
+idsareuids
+prbool
+ismove
+nsieventqueue
+eventqueue
+nsiurllistener
+urllistener
+midsareuids
+prfalse
+mismove
+prfalse
+msrcispop
+prfalse
+init
+srcfolder
+srckeyarray
+srcmsgidstring
+dstfolder
+idsareuids
+ismove
+eventqueue
+urllistener
+nsresult
+nsimapmovecopymsgtxn
+init
+nsimsgfolder
+srcfolder
+nsmsgkeyarray
+srckeyarray
+srcmsgidstring
+nsimsgfolder
+dstfolder
+prbool
+idsareuids
+prbool
+ismove
+nsieventqueue
+eventqueue
+nsiurllistener
+urllistener
+nsresult
+rv
+nsnewisupportsarray
+getteraddrefs
+msrchdrs
+msrcmsgidstring
+srcmsgidstring
+midsareuids
+idsareuids
+mismove
+ismove
+msrcfolder
+getteraddrefs
+nsgetweakreference
+srcfolder
+mdstfolder
+getteraddrefs
+nsgetweakreference
+dstfolder
+meventqueue
+doqueryinterface
+eventqueue
+rv
+urllistener
+murllistener
+doqueryinterface
+urllistener
+rv
+msrckeyarray
+copyarray
+srckeyarray
+mdupkeyarray
+copyarray
+srckeyarray
+nsxpidlcstring
+uri
+rv
+srcfolder
+geturi
+gettercopies
+uri
+nscstring
+protocoltype
+uri
+protocoltype
+setlength
+protocoltype
+findchar
+protocoltype
+equalsignorecase
+mailbox
+msrcispop
+prtrue
+pruint
+count
+msrckeyarray
+getsize
+nscomptr
+nsimsgdatabase
+srcdb
+rv
+srcfolder
+getmsgdatabase
+nsnull
+getteraddrefs
+srcdb
+nsfailed
+rv
+rv
+nscomptr
+nsimsgdbhdr
+srchdr
+nscomptr
+nsimsgdbhdr
+copysrchdr
+nsmsgkey
+pseudokey
+count
+rv
+srcdb
+getmsghdrforkey
+msrckeyarray
+getat
+getteraddrefs
+srchdr
+nssucceeded
+rv
+pruint
+msgsize
+rv
+srchdr
+getmessagesize
+msgsize
+nssucceeded
+rv
+msrcsizearray
+add
+msgsize
+ismove
+srcdb
+getnextpseudomsgkey
+pseudokey
+pseudokey
+mdupkeyarray
+setat
+pseudokey
+rv
+srcdb
+copyhdrfromexistinghdr
+pseudokey
+srchdr
+prfalse
+getteraddrefs
+copysrchdr
+nssucceeded
+rv
+nscomptr
+nsisupports
+supports
+doqueryinterface
+copysrchdr
+msrchdrs
+appendelement
+supports
+rv
+nsimapmovecopymsgtxn
+nsimapmovecopymsgtxn
+nsimpladdrefinherited
+nsimapmovecopymsgtxn
+nsmsgtxn
+nsimplreleaseinherited
+nsimapmovecopymsgtxn
+nsmsgtxn
+nsimethodimp
+nsimapmovecopymsgtxn
+queryinterface
+refnsiid
+aiid
+ainstanceptr
+ainstanceptr
+nserrornullpointer
+ainstanceptr
+nsnull
+aiid
+equals
+nsgetiid
+nsimapmovecopymsgtxn
+ainstanceptr
+nsstaticcast
+nsimapmovecopymsgtxn
+ainstanceptr
+nsaddrefthis
+nsok
+nsmsgtxn
+queryinterface
+aiid
+ainstanceptr
+nsimethodimp
+nsimapmovecopymsgtxn
+undotransaction
+nsresult
+rv
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+mismove
+mdstfolder
+msrcispop
+rv
+undomailboxdelete
+nsfailed
+rv
+rv
+nscomptr
+nsimsgfolder
+srcfolder
+doqueryreferent
+msrcfolder
+rv
+nsfailed
+rv
+srcfolder
+rv
+nscomptr
+nsiurllistener
+srclistener
+doqueryinterface
+srcfolder
+rv
+nsfailed
+rv
+rv
+rv
+imapservice
+liteselectfolder
+meventqueue
+srcfolder
+srclistener
+nsnull
+nsfailed
+rv
+rv
+prbool
+deletedmsgs
+prtrue
+nsmsgimapdeletemodel
+deletemodel
+rv
+getimapdeletemodel
+srcfolder
+deletemodel
+nsassertion
+msrckeyarray
+getsize
+no
+source
+keys
+msrckeyarray
+getsize
+nserrorunexpected
+nssucceeded
+rv
+deletemodel
+nsmsgimapdeletemodels
+imapdelete
+checkfortoggledelete
+srcfolder
+msrckeyarray
+getat
+deletedmsgs
+deletedmsgs
+rv
+imapservice
+subtractmessageflags
+meventqueue
+srcfolder
+srclistener
+nsnull
+msrcmsgidstring
+get
+kimapmsgdeletedflag
+midsareuids
+rv
+imapservice
+addmessageflags
+meventqueue
+srcfolder
+srclistener
+nsnull
+msrcmsgidstring
+get
+kimapmsgdeletedflag
+midsareuids
+nsfailed
+rv
+rv
+deletemodel
+nsmsgimapdeletemodels
+imapdelete
+rv
+imapservice
+getheaders
+meventqueue
+srcfolder
+srclistener
+nsnull
+msrcmsgidstring
+get
+prtrue
+mdstkeyarray
+getsize
+nscomptr
+nsimsgfolder
+dstfolder
+doqueryreferent
+mdstfolder
+rv
+nsfailed
+rv
+dstfolder
+rv
+nscomptr
+nsiurllistener
+dstlistener
+dstlistener
+doqueryinterface
+dstfolder
+rv
+nsfailed
+rv
+rv
+rv
+imapservice
+liteselectfolder
+meventqueue
+dstfolder
+dstlistener
+nsnull
+nsfailed
+rv
+rv
+rv
+imapservice
+addmessageflags
+meventqueue
+dstfolder
+dstlistener
+nsnull
+mdstmsgidstring
+get
+kimapmsgdeletedflag
+midsareuids
+rv
+nsimethodimp
+nsimapmovecopymsgtxn
+redotransaction
+nsresult
+rv
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+mismove
+mdstfolder
+msrcispop
+rv
+redomailboxdelete
+nsfailed
+rv
+rv
+nscomptr
+nsimsgfolder
+srcfolder
+doqueryreferent
+msrcfolder
+rv
+nsfailed
+rv
+srcfolder
+rv
+nscomptr
+nsiurllistener
+srclistener
+doqueryinterface
+srcfolder
+rv
+nsfailed
+rv
+rv
+prbool
+deletedmsgs
+prfalse
+nsmsgimapdeletemodel
+deletemodel
+rv
+getimapdeletemodel
+srcfolder
+deletemodel
+nsassertion
+msrckeyarray
+getsize
+no
+source
+keys
+msrckeyarray
+getsize
+nserrorunexpected
+nssucceeded
+rv
+deletemodel
+nsmsgimapdeletemodels
+imapdelete
+rv
+checkfortoggledelete
+srcfolder
+msrckeyarray
+getat
+deletedmsgs
+rv
+imapservice
+liteselectfolder
+meventqueue
+srcfolder
+srclistener
+nsnull
+nsfailed
+rv
+rv
+deletedmsgs
+rv
+imapservice
+subtractmessageflags
+meventqueue
+srcfolder
+srclistener
+nsnull
+msrcmsgidstring
+get
+kimapmsgdeletedflag
+midsareuids
+rv
+imapservice
+addmessageflags
+meventqueue
+srcfolder
+srclistener
+nsnull
+msrcmsgidstring
+get
+kimapmsgdeletedflag
+midsareuids
+mdstkeyarray
+getsize
+nscomptr
+nsimsgfolder
+dstfolder
+doqueryreferent
+mdstfolder
+rv
+nsfailed
+rv
+dstfolder
+rv
+nscomptr
+nsiurllistener
+dstlistener
+dstlistener
+doqueryinterface
+dstfolder
+rv
+nsfailed
+rv
+rv
+rv
+imapservice
+liteselectfolder
+meventqueue
+dstfolder
+dstlistener
+nsnull
+nsfailed
+rv
+rv
+rv
+imapservice
+subtractmessageflags
+meventqueue
+dstfolder
+dstlistener
+nsnull
+mdstmsgidstring
+get
+kimapmsgdeletedflag
+midsareuids
+nsfailed
+rv
+rv
+nsmsgimapdeletemodel
+deletemodel
+rv
+getimapdeletemodel
+dstfolder
+deletemodel
+nsfailed
+rv
+deletemodel
+nsmsgimapdeletemodels
+movetotrash
+rv
+imapservice
+getheaders
+meventqueue
+dstfolder
+dstlistener
+nsnull
+mdstmsgidstring
+get
+prtrue
+rv
+nsresult
+nsimapmovecopymsgtxn
+setcopyresponseuid
+nsmsgkeyarray
+akeyarray
+amsgidstring
+akeyarray
+amsgidstring
+nserrornullpointer
+mdstkeyarray
+copyarray
+akeyarray
+mdstmsgidstring
+amsgidstring
+mdstmsgidstring
+last
+print
+len
+mdstmsgidstring
+length
+mdstmsgidstring
+setlength
+len
+nsok
+nsresult
+nsimapmovecopymsgtxn
+getsrckeyarray
+nsmsgkeyarray
+srckeyarray
+srckeyarray
+copyarray
+msrckeyarray
+nsok
+nsresult
+nsimapmovecopymsgtxn
+getdstkeyarray
+nsmsgkeyarray
+dstkeyarray
+dstkeyarray
+copyarray
+mdstkeyarray
+nsok
+nsresult
+nsimapmovecopymsgtxn
+adddstkey
+nsmsgkey
+akey
+mdstkeyarray
+add
+akey
+mdstmsgidstring
+isempty
+mdstmsgidstring
+append
+mdstmsgidstring
+appendint
+print
+akey
+nsok
+nsresult
+nsimapmovecopymsgtxn
+undomailboxdelete
+nsresult
+rv
+nserrorfailure
+msrcispop
+nscomptr
+nsimsgfolder
+srcfolder
+doqueryreferent
+msrcfolder
+rv
+nsfailed
+rv
+srcfolder
+rv
+nscomptr
+nsimsgfolder
+dstfolder
+doqueryreferent
+mdstfolder
+rv
+nsfailed
+rv
+dstfolder
+rv
+nscomptr
+nsimsgdatabase
+srcdb
+nscomptr
+nsimsgdatabase
+dstdb
+rv
+srcfolder
+getmsgdatabase
+nsnull
+getteraddrefs
+srcdb
+nsfailed
+rv
+rv
+rv
+dstfolder
+getmsgdatabase
+nsnull
+getteraddrefs
+dstdb
+nsfailed
+rv
+rv
+pruint
+count
+msrckeyarray
+getsize
+pruint
+nscomptr
+nsimsgdbhdr
+oldhdr
+nscomptr
+nsimsgdbhdr
+newhdr
+count
+oldhdr
+doqueryelementat
+msrchdrs
+nsassertion
+oldhdr
+fatal
+cannot
+get
+old
+msg
+header
+rv
+srcdb
+copyhdrfromexistinghdr
+msrckeyarray
+getat
+oldhdr
+prtrue
+getteraddrefs
+newhdr
+nsassertion
+newhdr
+fatal
+cannot
+create
+header
+nssucceeded
+rv
+newhdr
+msrcsizearray
+getsize
+newhdr
+setmessagesize
+msrcsizearray
+getat
+srcdb
+undodelete
+newhdr
+srcdb
+setsummaryvalid
+prtrue
+srcdb
+commit
+nsmsgdbcommittype
+klargecommit
+nsok
+rv
+nserrorfailure
+rv
+nsresult
+nsimapmovecopymsgtxn
+redomailboxdelete
+nsresult
+rv
+nserrorfailure
+msrcispop
+nscomptr
+nsimsgdatabase
+srcdb
+nscomptr
+nsimsgfolder
+srcfolder
+doqueryreferent
+msrcfolder
+rv
+nsfailed
+rv
+srcfolder
+rv
+rv
+srcfolder
+getmsgdatabase
+nsnull
+getteraddrefs
+srcdb
+nssucceeded
+rv
+srcdb
+deletemessages
+msrckeyarray
+nsnull
+srcdb
+setsummaryvalid
+prtrue
+srcdb
+commit
+nsmsgdbcommittype
+klargecommit
+nsok
+rv
+nserrorfailure
+rv
+nsresult
+nsimapmovecopymsgtxn
+getimapdeletemodel
+nsimsgfolder
+afolder
+nsmsgimapdeletemodel
+adeletemodel
+nsresult
+rv
+nscomptr
+nsimsgincomingserver
+server
+afolder
+nserrornullpointer
+rv
+afolder
+getserver
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiimapincomingserver
+imapserver
+doqueryinterface
+server
+rv
+nssucceeded
+rv
+imapserver
+rv
+imapserver
+getdeletemodel
+adeletemodel
+rv
+nsimapofflinetxn
+nsimapofflinetxn
+nsimsgfolder
+srcfolder
+nsmsgkeyarray
+srckeyarray
+nsimsgfolder
+dstfolder
+prbool
+ismove
+nsofflineimapoperationtype
+optype
+nsimsgdbhdr
+srchdr
+nsieventqueue
+eventqueue
+nsiurllistener
+urllistener
+init
+srcfolder
+srckeyarray
+nsnull
+dstfolder
+prtrue
+ismove
+eventqueue
+urllistener
+moptype
+optype
+mflags
+maddflags
+prfalse
+mheader
+srchdr
+optype
+nsimsgofflineimapoperation
+kdeletedmsg
+nscomptr
+nsimsgdatabase
+srcdb
+nscomptr
+nsidbfolderinfo
+folderinfo
+nsresult
+rv
+srcfolder
+getdbfolderinfoanddb
+getteraddrefs
+folderinfo
+getteraddrefs
+srcdb
+nssucceeded
+rv
+srcdb
+nsmsgkey
+pseudokey
+nscomptr
+nsimsgdbhdr
+copysrchdr
+srcdb
+getnextpseudomsgkey
+pseudokey
+pseudokey
+mdupkeyarray
+setat
+pseudokey
+rv
+srcdb
+copyhdrfromexistinghdr
+pseudokey
+srchdr
+prfalse
+getteraddrefs
+copysrchdr
+nssucceeded
+rv
+nscomptr
+nsisupports
+supports
+doqueryinterface
+copysrchdr
+msrchdrs
+appendelement
+supports
+nsimapofflinetxn
+nsimapofflinetxn
+nsimethodimp
+nsimapofflinetxn
+undotransaction
+nsresult
+rv
+nscomptr
+nsimsgfolder
+srcfolder
+doqueryreferent
+msrcfolder
+rv
+nsfailed
+rv
+srcfolder
+rv
+nscomptr
+nsimsgofflineimapoperation
+op
+nscomptr
+nsidbfolderinfo
+folderinfo
+nscomptr
+nsimsgdatabase
+srcdb
+nscomptr
+nsimsgdatabase
+destdb
+nsmsgkey
+hdrkey
+nsmsgkeynone
+mheader
+mheader
+getmessagekey
+hdrkey
+rv
+srcfolder
+getdbfolderinfoanddb
+getteraddrefs
+folderinfo
+getteraddrefs
+srcdb
+nsensuresuccess
+rv
+rv
+moptype
+nsimsgofflineimapoperation
+kmsgmoved
+nsimsgofflineimapoperation
+kmsgcopy
+nsimsgofflineimapoperation
+kaddedheader
+nsimsgofflineimapoperation
+kflagschanged
+rv
+srcdb
+getofflineopforkey
+hdrkey
+prfalse
+getteraddrefs
+op
+nssucceeded
+rv
+op
+srcdb
+removeofflineop
+op
+op
+nsnull
+mheader
+moptype
+nsimsgofflineimapoperation
+kaddedheader
+nscomptr
+nsimsgdbhdr
+mailhdr
+nsmsgkey
+msgkey
+mheader
+getmessagekey
+msgkey
+rv
+srcdb
+getmsghdrforkey
+msgkey
+getteraddrefs
+mailhdr
+mailhdr
+srcdb
+deleteheader
+mailhdr
+nsnull
+prtrue
+prfalse
+nsimsgofflineimapoperation
+kdeletedmsg
+nsmsgkey
+msgkey
+mheader
+getmessagekey
+msgkey
+nscomptr
+nsimsgdbhdr
+undeletedhdr
+msrchdrs
+queryelementat
+nsgetiid
+nsimsgdbhdr
+getteraddrefs
+undeletedhdr
+undeletedhdr
+nscomptr
+nsimsgdbhdr
+newhdr
+srcdb
+copyhdrfromexistinghdr
+msgkey
+undeletedhdr
+prtrue
+getteraddrefs
+newhdr
+srcdb
+close
+prtrue
+srcfolder
+summarychanged
+nsimsgofflineimapoperation
+kmsgmarkeddeleted
+srcdb
+markimapdeleted
+hdrkey
+prfalse
+nsnull
+srcdb
+close
+prtrue
+srcfolder
+summarychanged
+nsok
+nsimethodimp
+nsimapofflinetxn
+redotransaction
+nsresult
+rv
+nscomptr
+nsimsgfolder
+srcfolder
+doqueryreferent
+msrcfolder
+rv
+nsfailed
+rv
+srcfolder
+rv
+nscomptr
+nsimsgofflineimapoperation
+op
+nscomptr
+nsidbfolderinfo
+folderinfo
+nscomptr
+nsimsgdatabase
+srcdb
+nscomptr
+nsimsgdatabase
+destdb
+rv
+srcfolder
+getdbfolderinfoanddb
+getteraddrefs
+folderinfo
+getteraddrefs
+srcdb
+nsensuresuccess
+rv
+rv
+nsmsgkey
+hdrkey
+nsmsgkeynone
+mheader
+mheader
+getmessagekey
+hdrkey
+moptype
+nsimsgofflineimapoperation
+kmsgmoved
+nsimsgofflineimapoperation
+kmsgcopy
+rv
+srcdb
+getofflineopforkey
+hdrkey
+prfalse
+getteraddrefs
+op
+nssucceeded
+rv
+op
+nscomptr
+nsimsgfolder
+dstfolder
+doqueryreferent
+mdstfolder
+rv
+dstfolder
+nsxpidlcstring
+folderuri
+dstfolder
+geturi
+gettercopies
+folderuri
+moptype
+nsimsgofflineimapoperation
+kmsgmoved
+op
+setdestinationfolderuri
+folderuri
+moptype
+nsimsgofflineimapoperation
+kmsgcopy
+op
+setoperation
+nsimsgofflineimapoperation
+kmsgmoved
+op
+addmessagecopyoperation
+folderuri
+dstfolder
+summarychanged
+nsimsgofflineimapoperation
+kaddedheader
+nscomptr
+nsimsgdbhdr
+restorehdr
+nsmsgkey
+msgkey
+mheader
+getmessagekey
+msgkey
+nscomptr
+nsimsgfolder
+dstfolder
+doqueryreferent
+mdstfolder
+rv
+rv
+srcfolder
+getdbfolderinfoanddb
+getteraddrefs
+folderinfo
+getteraddrefs
+destdb
+nsensuresuccess
+rv
+rv
+mheader
+destdb
+copyhdrfromexistinghdr
+msgkey
+mheader
+prtrue
+getteraddrefs
+restorehdr
+destdb
+close
+prtrue
+dstfolder
+summarychanged
+rv
+destdb
+getofflineopforkey
+hdrkey
+prtrue
+getteraddrefs
+op
+nssucceeded
+rv
+op
+nsxpidlcstring
+folderuri
+srcfolder
+geturi
+gettercopies
+folderuri
+op
+setsourcefolderuri
+folderuri
+dstfolder
+summarychanged
+destdb
+close
+prtrue
+nsimsgofflineimapoperation
+kdeletedmsg
+srcdb
+deletemessage
+hdrkey
+nsnull
+prtrue
+nsimsgofflineimapoperation
+kmsgmarkeddeleted
+srcdb
+markimapdeleted
+hdrkey
+prtrue
+nsnull
+nsimsgofflineimapoperation
+kflagschanged
+rv
+srcdb
+getofflineopforkey
+hdrkey
+prtrue
+getteraddrefs
+op
+nssucceeded
+rv
+op
+imapmessageflagstype
+newmsgflags
+op
+getnewflags
+newmsgflags
+maddflags
+op
+setflagoperation
+newmsgflags
+mflags
+op
+setflagoperation
+newmsgflags
+mflags
+srcdb
+close
+prtrue
+srcdb
+nsnull
+srcfolder
+summarychanged
+nsok
\ No newline at end of file
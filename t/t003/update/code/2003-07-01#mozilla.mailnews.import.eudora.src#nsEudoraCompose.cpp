@@ -0,0 +1,1975 @@
+nscore
+prthread
+nsstring
+nsreadableutils
+nsunicharutils
+nscomptr
+nsifilespec
+nsicomponentmanager
+nsiservicemanager
+nsiioservice
+nsiuri
+nsiproxyobjectmanager
+nsproxiedservice
+nsmsgbasecid
+nsmsgcompcid
+nsimsgcompose
+nsimsgcompfields
+nsimsgsend
+nsimsgmailsession
+nsimsgaccountmanager
+nsmsgin
+nsnetcid
+nseudoracompose
+eudoradebuglog
+nsmimetypes
+nsipref
+nsmsgutils
+nsdefinecid
+kmsgsendcid
+nsmsgsendcid
+nsdefinecid
+kmsgcompfieldscid
+nsmsgcompfieldscid
+nsdefinecid
+kioservicecid
+nsioservicecid
+nsdefinecid
+kproxyobjectmanagercid
+nsproxyeventmanagercid
+define
+khungcount
+define
+khungabortcount
+ifdef
+importdebug
+ptestheaders
+received
+from
+netppl
+fi
+ident
+monitor
+get
+freebsd
+because
+microsoftsucks
+net
+by
+mail
+sirius
+with
+smtp
+id
+paa
+mon
+may
+pdt
+message
+id
+ikgdjrtskklu
+ggmhmeajsqdp
+netppl
+fi
+from
+adsales
+qualityservice
+adsales
+qualityservice
+subject
+re
+your
+college
+diploma
+date
+mon
+may
+edt
+mime
+version
+content
+type
+text
+plain
+charset
+us
+ascii
+content
+transfer
+encoding
+bit
+uidl
+status
+ro
+ptestbody
+hello
+world
+define
+ptestheaders
+nsnull
+define
+ptestbody
+nsnull
+endif
+define
+kwhitespace
+eudorasendlistener
+nsimsgsendlistener
+eudorasendlistener
+mdone
+prfalse
+mlocation
+nsnull
+eudorasendlistener
+nsifrelease
+mlocation
+nsdeclisupports
+nsimethod
+onstartsending
+amsgid
+pruint
+amsgsize
+nsok
+nsimethod
+onprogress
+amsgid
+pruint
+aprogress
+pruint
+aprogressmax
+nsok
+nsimethod
+onstatus
+amsgid
+prunichar
+amsg
+nsok
+nsimethod
+onstopsending
+amsgid
+nsresult
+astatus
+prunichar
+amsg
+nsifilespec
+returnfilespec
+mdone
+prtrue
+mlocation
+returnfilespec
+nsifaddref
+mlocation
+nsok
+nsimethod
+onsendnotperformed
+amsgid
+nsresult
+astatus
+nsok
+nsimethod
+ongetdraftfolderuri
+afolderuri
+nsok
+nsresult
+createsendlistener
+nsimsgsendlistener
+pplistener
+reset
+mdone
+prfalse
+nsifrelease
+mlocation
+mlocation
+nsnull
+prbool
+mdone
+nsifilespec
+mlocation
+nsimplthreadsafeisupports
+eudorasendlistener
+nsimsgsendlistener
+nsresult
+eudorasendlistener
+createsendlistener
+nsimsgsendlistener
+pplistener
+nsprecondition
+pplistener
+nsnull
+ptr
+pplistener
+nserrornullpointer
+pplistener
+eudorasendlistener
+pplistener
+nserroroutofmemory
+nsaddref
+pplistener
+nsok
+nseudoracompose
+nseudoracompose
+mpioservice
+nsnull
+mpattachments
+nsnull
+mplistener
+nsnull
+mpmsgsend
+nsnull
+mpsendproxy
+nsnull
+mpmsgfields
+nsnull
+mpidentity
+nsnull
+mpheaders
+ptestheaders
+mpheaders
+mheaderlen
+strlen
+mpheaders
+mheaderlen
+mpbody
+ptestbody
+mpbody
+mbodylen
+strlen
+mpbody
+mbodylen
+mreadheaders
+mconvertcrs
+prtrue
+nseudoracompose
+nseudoracompose
+nsifrelease
+mpsendproxy
+nsifrelease
+mpioservice
+nsifrelease
+mpmsgsend
+nsifrelease
+mplistener
+nsifrelease
+mpmsgfields
+mpidentity
+nsresult
+rv
+mpidentity
+clearallvalues
+nsassertion
+nssucceeded
+rv
+failed
+to
+clear
+values
+nsfailed
+rv
+nswithproxiedservice
+nsimsgaccountmanager
+accmgr
+nsmsgaccountmanagercontractid
+nsuithreadeventq
+rv
+nsassertion
+nssucceeded
+rv
+accmgr
+failed
+to
+get
+account
+manager
+nsfailed
+rv
+accmgr
+rv
+accmgr
+removeidentity
+mpidentity
+nsassertion
+nssucceeded
+rv
+failed
+to
+remove
+identity
+nsfailed
+rv
+nsrelease
+mpidentity
+nsresult
+nseudoracompose
+createidentity
+mpidentity
+nsok
+nsresult
+rv
+nswithproxiedservice
+nsimsgaccountmanager
+accmgr
+nsmsgaccountmanagercontractid
+nsuithreadeventq
+rv
+nsfailed
+rv
+rv
+rv
+accmgr
+createidentity
+mpidentity
+nsstring
+name
+nsliteralstring
+import
+identity
+mpidentity
+mpidentity
+setfullname
+name
+get
+mpidentity
+setidentityname
+name
+get
+mpidentity
+setemail
+service
+rv
+nsresult
+nseudoracompose
+createcomponents
+nsresult
+rv
+nsok
+mpioservice
+importlog
+creating
+nsioservice
+nswithproxiedservice
+nsiioservice
+service
+kioservicecid
+nsuithreadeventq
+rv
+nsfailed
+rv
+rv
+mpioservice
+service
+nsifaddref
+mpioservice
+nsifrelease
+mpmsgfields
+mpmsgsend
+rv
+nscomponentmanager
+createinstance
+kmsgsendcid
+nsnull
+nsgetiid
+nsimsgsend
+mpmsgsend
+nssucceeded
+rv
+mpmsgsend
+nscomptr
+nsiproxyobjectmanager
+proxymgr
+dogetservice
+kproxyobjectmanagercid
+rv
+nssucceeded
+rv
+rv
+proxymgr
+getproxyforobject
+nsuithreadeventq
+nsgetiid
+nsimsgsend
+mpmsgsend
+proxysync
+mpsendproxy
+nsfailed
+rv
+mpsendproxy
+nsnull
+nsfailed
+rv
+nsrelease
+mpmsgsend
+mpmsgsend
+nsnull
+mplistener
+nssucceeded
+rv
+rv
+eudorasendlistener
+createsendlistener
+mplistener
+nssucceeded
+rv
+mpmsgsend
+rv
+nscomponentmanager
+createinstance
+kmsgcompfieldscid
+nsnull
+nscomtypeinfo
+nsimsgcompfields
+getiid
+mpmsgfields
+nssucceeded
+rv
+mpmsgfields
+mpmsgfields
+setforceplaintext
+prfalse
+nsok
+nserrorfailure
+nseudoracompose
+getnthheader
+pdata
+print
+datalen
+print
+nscstring
+header
+nscstring
+val
+prbool
+unwrap
+header
+truncate
+val
+truncate
+pdata
+print
+index
+print
+len
+print
+start
+pchar
+pdata
+pstart
+pstart
+pchar
+len
+start
+datalen
+pchar
+start
+len
+pchar
+header
+append
+pstart
+len
+header
+trim
+kwhitespace
+start
+pchar
+start
+datalen
+pchar
+pchar
+index
+pstart
+pchar
+len
+start
+datalen
+pchar
+start
+len
+pchar
+header
+append
+pstart
+len
+header
+trim
+kwhitespace
+start
+pchar
+index
+start
+datalen
+pchar
+xd
+pchar
+xa
+start
+pchar
+start
+datalen
+pchar
+xd
+pchar
+xa
+start
+pchar
+start
+datalen
+print
+lineend
+print
+end
+start
+end
+datalen
+end
+datalen
+pchar
+xd
+pchar
+xa
+end
+pchar
+end
+start
+val
+append
+pdata
+start
+end
+start
+lineend
+end
+pstart
+pchar
+end
+datalen
+pchar
+xd
+pchar
+xa
+end
+pchar
+start
+end
+end
+datalen
+pchar
+pchar
+end
+pchar
+start
+end
+unwrap
+val
+append
+val
+append
+pstart
+end
+lineend
+start
+end
+val
+trim
+kwhitespace
+nseudoracompose
+getheadervalue
+pdata
+print
+datalen
+pheader
+nscstring
+val
+prbool
+unwrap
+val
+truncate
+pdata
+print
+start
+print
+len
+strlen
+pheader
+pchar
+pdata
+nscrt
+strncasecmp
+pheader
+pdata
+len
+start
+len
+start
+datalen
+start
+datalen
+pchar
+xd
+pchar
+xa
+start
+pchar
+start
+datalen
+pchar
+xd
+pchar
+xa
+start
+pchar
+start
+datalen
+nscrt
+strncasecmp
+pchar
+pheader
+len
+start
+datalen
+start
+len
+start
+datalen
+print
+end
+start
+print
+lineend
+pstart
+pchar
+pdata
+start
+end
+datalen
+end
+datalen
+pchar
+xd
+pchar
+xa
+end
+pchar
+end
+start
+val
+append
+pdata
+start
+end
+start
+lineend
+end
+pstart
+pchar
+end
+datalen
+pchar
+xd
+pchar
+xa
+end
+pchar
+start
+end
+end
+datalen
+pchar
+pchar
+end
+pchar
+start
+end
+unwrap
+val
+append
+val
+append
+pstart
+end
+lineend
+start
+end
+val
+trim
+kwhitespace
+nseudoracompose
+extractcharset
+nsstring
+str
+nsstring
+tstr
+print
+idx
+str
+find
+charset
+prtrue
+idx
+idx
+str
+right
+tstr
+str
+length
+idx
+idx
+tstr
+findchar
+idx
+tstr
+left
+str
+idx
+str
+tstr
+str
+trim
+kwhitespace
+str
+charat
+str
+length
+str
+mid
+tstr
+str
+length
+str
+tstr
+str
+trim
+kwhitespace
+str
+truncate
+nseudoracompose
+extracttype
+nsstring
+str
+nsstring
+tstr
+print
+idx
+str
+findchar
+idx
+str
+left
+tstr
+idx
+str
+tstr
+str
+trim
+kwhitespace
+str
+charat
+str
+length
+str
+mid
+tstr
+str
+length
+str
+tstr
+str
+trim
+kwhitespace
+str
+length
+str
+left
+tstr
+tstr
+equals
+nsliteralstring
+multipart
+nscaseinsensitivestringcomparator
+str
+truncate
+nseudoracompose
+cleanupattach
+nsmsgattachedfile
+print
+count
+print
+count
+origurl
+nsnull
+type
+nscrt
+free
+type
+description
+nscrt
+free
+description
+encoding
+nscrt
+free
+encoding
+nsmsgattachedfile
+nseudoracompose
+getlocalattachments
+print
+count
+mpattachments
+count
+mpattachments
+count
+count
+nsnull
+nsmsgattachedfile
+nsmsgattachedfile
+nsmsgattachedfile
+count
+nsnull
+memset
+nsmsgattachedfile
+count
+nsresult
+rv
+nsxpidlcstring
+urlstr
+importattachment
+pattach
+print
+count
+pattach
+importattachment
+mpattachments
+elementat
+filespec
+nsfilespec
+pattach
+pattachment
+getfilespec
+filespec
+urlstr
+adopt
+pattach
+pattachment
+geturlstring
+gettercopies
+urlstr
+urlstr
+cleanupattach
+count
+nsnull
+rv
+mpioservice
+newuri
+urlstr
+nsnull
+nsnull
+getteraddrefs
+origurl
+nsfailed
+rv
+cleanupattach
+count
+nsnull
+type
+nscrt
+strdup
+pattach
+mimetype
+realname
+nscrt
+strdup
+pattach
+description
+encoding
+nscrt
+strdup
+encodingbinary
+nseudoracompose
+convertsystounicode
+pstr
+nsstring
+unistr
+mpimportservice
+mpimportservice
+dogetservice
+nsimportservicecontractid
+mpimportservice
+mpimportservice
+systemstringtounicode
+pstr
+unistr
+unistr
+assignwithconversion
+pstr
+nsresult
+nseudoracompose
+sendthemessage
+nsifilespec
+pmsg
+nsresult
+rv
+createcomponents
+nssucceeded
+rv
+rv
+createidentity
+nsfailed
+rv
+rv
+nsstring
+bodytype
+nsstring
+charset
+nsstring
+headerval
+getheadervalue
+mpheaders
+mheaderlen
+from
+headerval
+headerval
+isempty
+mpmsgfields
+setfrom
+headerval
+get
+getheadervalue
+mpheaders
+mheaderlen
+to
+headerval
+headerval
+isempty
+mpmsgfields
+setto
+headerval
+get
+getheadervalue
+mpheaders
+mheaderlen
+subject
+headerval
+headerval
+isempty
+mpmsgfields
+setsubject
+headerval
+get
+getheadervalue
+mpheaders
+mheaderlen
+content
+type
+headerval
+bodytype
+headerval
+extracttype
+bodytype
+extractcharset
+headerval
+headerval
+isempty
+headerval
+assignwithconversion
+nsmsginfilesystemcharset
+headerval
+isempty
+mdefcharset
+isempty
+nsxpidlstring
+defaultcharset
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nssucceeded
+rv
+rv
+prefs
+getlocalizedunicharpref
+mailnews
+viewdefaultcharset
+gettercopies
+defaultcharset
+mdefcharset
+assign
+defaultcharset
+defaultcharset
+get
+nsliteralstring
+iso
+get
+headerval
+mdefcharset
+mpmsgfields
+setcharacterset
+nslossyconvertucstoascii
+headerval
+get
+charset
+headerval
+getheadervalue
+mpheaders
+mheaderlen
+cc
+headerval
+headerval
+isempty
+mpmsgfields
+setcc
+headerval
+get
+getheadervalue
+mpheaders
+mheaderlen
+message
+id
+headerval
+headerval
+isempty
+mpmsgfields
+setmessageid
+nslossyconvertucstoascii
+headerval
+get
+getheadervalue
+mpheaders
+mheaderlen
+reply
+to
+headerval
+headerval
+isempty
+mpmsgfields
+setreplyto
+headerval
+get
+pmimetype
+nsnull
+bodytype
+isempty
+pmimetype
+tonewcstring
+bodytype
+nsmsgattachedfile
+pattach
+getlocalattachments
+nsstring
+unibody
+convertsystounicode
+mpbody
+unibody
+nscstring
+body
+nscstring
+thecharset
+thecharset
+assignwithconversion
+charset
+rv
+nsmsginconvertfromunicode
+thecharset
+unibody
+body
+nsfailed
+rv
+charset
+equals
+mdefcharset
+thecharset
+assignwithconversion
+mdefcharset
+body
+truncate
+rv
+nsmsginconvertfromunicode
+thecharset
+unibody
+body
+unibody
+truncate
+nsmsgdelivermode
+mode
+nsimsgsend
+nsmsgdelivernow
+prunichar
+from
+to
+cc
+bcc
+rv
+mpmsgfields
+getfrom
+from
+rv
+mpmsgfields
+getto
+to
+rv
+mpmsgfields
+getcc
+cc
+rv
+mpmsgfields
+getbcc
+bcc
+from
+from
+to
+to
+cc
+cc
+bcc
+bcc
+mode
+nsimsgsend
+nsmsgsaveasdraft
+nsfailed
+rv
+rv
+mpsendproxy
+createandsendmessage
+nsnull
+mpidentity
+mpmsgfields
+prfalse
+prtrue
+mode
+nsnull
+pmimetype
+mpbody
+mbodylen
+nsnull
+pattach
+nsnull
+nsnull
+nsnull
+mplistener
+nsnull
+rv
+mpsendproxy
+createandsendmessage
+nsnull
+mpidentity
+mpmsgfields
+prfalse
+prtrue
+mode
+nsnull
+pmimetype
+body
+get
+body
+length
+nsnull
+pattach
+nsnull
+nsnull
+nsnull
+mplistener
+nsnull
+pattach
+pattach
+eudorasendlistener
+plisten
+eudorasendlistener
+mplistener
+nsfailed
+rv
+importlog
+error
+createandsendmessage
+failed
+lx
+rv
+print
+abortcnt
+print
+cnt
+print
+sleepcnt
+plisten
+mdone
+abortcnt
+khungabortcount
+prsleep
+sleepcnt
+cnt
+cnt
+khungcount
+abortcnt
+sleepcnt
+cnt
+abortcnt
+khungabortcount
+importlog
+create
+send
+message
+hung
+importlog
+headers
+mpheaders
+importlog
+body
+mpbody
+rv
+nserrorfailure
+pmimetype
+nscrt
+free
+pmimetype
+plisten
+mlocation
+pmsg
+fromfilespec
+plisten
+mlocation
+rv
+nsok
+rv
+nserrorfailure
+importlog
+error
+outlook
+compose
+unsuccessful
+plisten
+reset
+rv
+prbool
+simplebuffertonyrcopiedonce
+specialmemcpy
+print
+offset
+pdata
+print
+len
+print
+pwritten
+pwritten
+len
+print
+sz
+offset
+len
+offset
+mpbuffer
+offset
+xd
+pdata
+xa
+sz
+grow
+sz
+prfalse
+mpbuffer
+offset
+xa
+offset
+pwritten
+len
+pdata
+xd
+pdata
+xa
+sz
+grow
+sz
+prfalse
+mpbuffer
+offset
+xd
+offset
+mpbuffer
+offset
+xa
+pwritten
+mpbuffer
+offset
+pdata
+offset
+pdata
+len
+prtrue
+nsresult
+nseudoracompose
+readheaders
+readfilestate
+pstate
+simplebuffertonyrcopiedonce
+copy
+simplebuffertonyrcopiedonce
+header
+header
+mwriteoffset
+nsresult
+rv
+print
+linelen
+print
+endlen
+print
+endbuffer
+endlen
+isendheaders
+copy
+linelen
+findnextendline
+copy
+copy
+mwriteoffset
+copy
+mbytesinbuf
+header
+write
+copy
+mpbuffer
+copy
+mwriteoffset
+importlog
+error
+writing
+headers
+nserrorfailure
+nsfailed
+rv
+fillmailbuffer
+pstate
+copy
+importlog
+error
+reading
+message
+headers
+rv
+copy
+mbytesinbuf
+importlog
+error
+end
+of
+file
+reading
+headers
+nserrorfailure
+copy
+mwriteoffset
+linelen
+copy
+mwriteoffset
+copy
+mbytesinbuf
+header
+write
+copy
+mpbuffer
+copy
+mwriteoffset
+importlog
+error
+writing
+headers
+nserrorfailure
+nsfailed
+rv
+fillmailbuffer
+pstate
+copy
+importlog
+error
+reading
+message
+headers
+rv
+header
+write
+copy
+mpbuffer
+copy
+mwriteoffset
+importlog
+error
+writing
+headers
+nserrorfailure
+header
+write
+endbuffer
+importlog
+error
+writing
+header
+trailing
+nserrorfailure
+copy
+mwriteoffset
+endlen
+nsok
+print
+nseudoracompose
+findnextendline
+simplebuffertonyrcopiedonce
+data
+print
+len
+data
+mbytesinbuf
+data
+mwriteoffset
+len
+print
+count
+pdata
+data
+mpbuffer
+data
+mwriteoffset
+pdata
+xd
+pdata
+xa
+count
+len
+pdata
+count
+pdata
+xd
+pdata
+xa
+count
+len
+pdata
+count
+count
+len
+count
+print
+nseudoracompose
+isendheaders
+simplebuffertonyrcopiedonce
+data
+print
+len
+data
+mbytesinbuf
+data
+mwriteoffset
+len
+pchar
+data
+mpbuffer
+data
+mwriteoffset
+pchar
+xd
+pchar
+xd
+len
+pchar
+xd
+pchar
+xa
+pchar
+xd
+pchar
+xa
+nsresult
+nseudoracompose
+copycomposedmessage
+nscstring
+fromline
+nsifilespec
+psrc
+nsifilespec
+pdst
+simplebuffertonyrcopiedonce
+copy
+copy
+mbytesinbuf
+copy
+mwriteoffset
+readfilestate
+state
+state
+pfile
+psrc
+state
+offset
+state
+size
+psrc
+getfilesize
+state
+size
+state
+size
+importlog
+error
+unexpected
+zero
+file
+size
+composed
+message
+nserrorfailure
+nsresult
+rv
+psrc
+openstreamforreading
+nsfailed
+rv
+importlog
+error
+unable
+to
+open
+composed
+message
+file
+nserrorfailure
+print
+written
+rv
+pdst
+write
+fromline
+get
+fromline
+length
+written
+nssucceeded
+rv
+rv
+fillmailbuffer
+state
+copy
+nssucceeded
+rv
+rv
+readheaders
+state
+copy
+mreadheaders
+nssucceeded
+rv
+rv
+writeheaders
+pdst
+mreadheaders
+lastchar
+nssucceeded
+rv
+rv
+escapefromspaceline
+pdst
+copy
+mpbuffer
+copy
+mwriteoffset
+copy
+mpbuffer
+copy
+mbytesinbuf
+copy
+mbytesinbuf
+lastchar
+copy
+mpbuffer
+copy
+mbytesinbuf
+nssucceeded
+rv
+copy
+mwriteoffset
+copy
+mbytesinbuf
+state
+offset
+state
+size
+nssucceeded
+rv
+rv
+fillmailbuffer
+state
+copy
+nssucceeded
+rv
+rv
+escapefromspaceline
+pdst
+copy
+mpbuffer
+copy
+mwriteoffset
+copy
+mpbuffer
+copy
+mbytesinbuf
+lastchar
+copy
+mpbuffer
+copy
+mbytesinbuf
+nssucceeded
+rv
+copy
+mwriteoffset
+copy
+mbytesinbuf
+importlog
+error
+writing
+to
+destination
+mailbox
+psrc
+closestream
+lastchar
+xa
+nssucceeded
+rv
+rv
+pdst
+write
+xd
+xa
+written
+written
+rv
+nserrorfailure
+rv
+nsresult
+nseudoracompose
+fillmailbuffer
+readfilestate
+pstate
+simplebuffertonyrcopiedonce
+read
+read
+mwriteoffset
+read
+mbytesinbuf
+read
+mwriteoffset
+read
+mbytesinbuf
+read
+mwriteoffset
+memcpy
+read
+mpbuffer
+read
+mpbuffer
+read
+mwriteoffset
+read
+mbytesinbuf
+read
+mwriteoffset
+read
+mbytesinbuf
+read
+mwriteoffset
+read
+mwriteoffset
+print
+count
+read
+msize
+read
+mbytesinbuf
+pruint
+count
+pstate
+offset
+pstate
+size
+count
+pstate
+size
+pstate
+offset
+count
+print
+bytesread
+pbuffer
+read
+mpbuffer
+read
+mbytesinbuf
+nsresult
+rv
+pstate
+pfile
+read
+pbuffer
+count
+bytesread
+nsfailed
+rv
+rv
+bytesread
+count
+nserrorfailure
+read
+mbytesinbuf
+bytesread
+pstate
+offset
+bytesread
+nsok
+define
+kmaxspecialheaders
+gspecialheaders
+kmaxspecialheaders
+content
+type
+mime
+version
+content
+transfer
+encoding
+define
+kmaxreplaceheaders
+greplaceheaders
+kmaxreplaceheaders
+from
+to
+subject
+reply
+to
+cc
+prbool
+nseudoracompose
+isreplaceheader
+pheader
+kmaxreplaceheaders
+nscrt
+strcasecmp
+pheader
+greplaceheaders
+prtrue
+prfalse
+print
+nseudoracompose
+isspecialheader
+pheader
+kmaxspecialheaders
+nscrt
+strcasecmp
+pheader
+gspecialheaders
+print
+nsresult
+nseudoracompose
+writeheaders
+nsifilespec
+pdst
+simplebuffertonyrcopiedonce
+newheaders
+print
+nscstring
+header
+nscstring
+val
+nscstring
+replaceval
+print
+written
+nsresult
+rv
+nsok
+print
+specialheader
+prbool
+specials
+kmaxspecialheaders
+prbool
+hasdateheader
+prfalse
+kmaxspecialheaders
+specials
+prfalse
+getnthheader
+mpheaders
+mheaderlen
+header
+val
+prfalse
+header
+isempty
+specialheader
+isspecialheader
+header
+get
+header
+append
+getheadervalue
+newheaders
+mpbuffer
+newheaders
+mwriteoffset
+header
+get
+val
+prfalse
+header
+truncate
+header
+length
+specials
+specialheader
+prtrue
+isreplaceheader
+header
+get
+replaceval
+truncate
+header
+append
+getheadervalue
+newheaders
+mpbuffer
+newheaders
+mwriteoffset
+header
+get
+replaceval
+prfalse
+header
+truncate
+header
+length
+replaceval
+isempty
+val
+replaceval
+val
+isempty
+nscrt
+strcasecmp
+header
+get
+date
+hasdateheader
+prtrue
+rv
+pdst
+write
+header
+get
+header
+length
+written
+nssucceeded
+rv
+rv
+pdst
+write
+written
+nssucceeded
+rv
+rv
+pdst
+write
+val
+get
+val
+length
+written
+nssucceeded
+rv
+rv
+pdst
+write
+xd
+xa
+written
+nssucceeded
+rv
+header
+isempty
+hasdateheader
+rv
+pdst
+write
+mdefaultdate
+get
+mdefaultdate
+length
+written
+nssucceeded
+rv
+rv
+pdst
+write
+xd
+xa
+written
+kmaxspecialheaders
+nssucceeded
+rv
+specials
+header
+gspecialheaders
+header
+append
+getheadervalue
+newheaders
+mpbuffer
+newheaders
+mwriteoffset
+header
+get
+val
+prfalse
+header
+truncate
+header
+length
+val
+isempty
+rv
+pdst
+write
+header
+get
+header
+length
+written
+nssucceeded
+rv
+rv
+pdst
+write
+written
+nssucceeded
+rv
+rv
+pdst
+write
+val
+get
+val
+length
+written
+nssucceeded
+rv
+rv
+pdst
+write
+xd
+xa
+written
+nssucceeded
+rv
+rv
+pdst
+write
+xd
+xa
+written
+rv
\ No newline at end of file
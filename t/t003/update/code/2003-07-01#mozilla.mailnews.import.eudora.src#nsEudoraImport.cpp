@@ -0,0 +1,1271 @@
+ifdef
+mozlogging
+define
+forceprlog
+endif
+nscore
+nscrt
+nsstring
+nsiservicemanager
+nsiimportservice
+nsicomponentmanager
+nseudoraimport
+nsimemory
+nsiimportservice
+nsiimportmail
+nsiimportmailboxdescriptor
+nsiimportgeneric
+nsiimportaddressbooks
+nsiimportabdescriptor
+nsiimportsettings
+nsiimportfieldmap
+nsxpcom
+nsisupportsprimitives
+nsioutputstream
+nsiaddrdatabase
+nstextformatter
+nseudorastringbundle
+nsistringbundle
+nseudorasettings
+nsreadableutils
+defined
+xpwin
+defined
+xpos
+nseudorawin
+endif
+defined
+xpmac
+defined
+xpmacosx
+nseudoramac
+endif
+eudoradebuglog
+nsdefineiid
+kisupportsiid
+nsisupportsiid
+prlogmoduleinfo
+eudoralogmodule
+nsnull
+importeudoramailimpl
+nsiimportmail
+importeudoramailimpl
+importeudoramailimpl
+nsresult
+create
+nsiimportmail
+aimport
+nsdeclisupports
+nsimethod
+getdefaultlocation
+nsifilespec
+location
+prbool
+found
+prbool
+userverify
+nsimethod
+findmailboxes
+nsifilespec
+location
+nsisupportsarray
+retval
+nsimethod
+importmailbox
+nsiimportmailboxdescriptor
+source
+nsifilespec
+destination
+prunichar
+perrorlog
+prunichar
+psuccesslog
+prbool
+fatalerror
+nsimethod
+getimportprogress
+pruint
+retval
+addlinebreak
+nsstring
+pstream
+setlogs
+nsstring
+success
+nsstring
+error
+prunichar
+perror
+prunichar
+psuccess
+reporterror
+print
+errornum
+nsstring
+name
+nsstring
+pstream
+reportsuccess
+nsstring
+name
+print
+count
+nsstring
+pstream
+defined
+xpwin
+defined
+xpos
+nseudorawin
+meudora
+endif
+defined
+xpmac
+defined
+xpmacosx
+nseudoramac
+meudora
+endif
+pruint
+mbytes
+importeudoraaddressimpl
+nsiimportaddressbooks
+importeudoraaddressimpl
+importeudoraaddressimpl
+nsresult
+create
+nsiimportaddressbooks
+aimport
+nsdeclisupports
+nsimethod
+getsupportsmultiple
+prbool
+retval
+retval
+prtrue
+nsok
+nsimethod
+getautofind
+prunichar
+description
+prbool
+retval
+nsimethod
+getneedsfieldmap
+nsifilespec
+location
+prbool
+retval
+retval
+prfalse
+nsok
+nsimethod
+getdefaultlocation
+nsifilespec
+location
+prbool
+found
+prbool
+userverify
+nsimethod
+findaddressbooks
+nsifilespec
+location
+nsisupportsarray
+retval
+nsimethod
+initfieldmap
+nsifilespec
+location
+nsiimportfieldmap
+fieldmap
+nserrorfailure
+nsimethod
+importaddressbook
+nsiimportabdescriptor
+source
+nsiaddrdatabase
+destination
+nsiimportfieldmap
+fieldmap
+prbool
+isaddrlochome
+prunichar
+errorlog
+prunichar
+successlog
+prbool
+fatalerror
+nsimethod
+getimportprogress
+pruint
+retval
+nsimethod
+getsampledata
+print
+index
+prbool
+pfound
+prunichar
+pstr
+nserrorfailure
+nsimethod
+setsamplelocation
+nsifilespec
+nsok
+reportsuccess
+nsstring
+name
+nsstring
+pstream
+defined
+xpwin
+defined
+xpos
+nseudorawin
+meudora
+endif
+defined
+xpmac
+defined
+xpmacosx
+nseudoramac
+meudora
+endif
+pruint
+mbytes
+nscomptr
+nsiimportservice
+gservice
+converttounicode
+pstr
+nsstring
+dist
+nsresult
+rv
+nsok
+gservice
+gservice
+dogetservice
+nsimportservicecontractid
+gservice
+rv
+gservice
+systemstringtounicode
+pstr
+dist
+gservice
+nsfailed
+rv
+dist
+assignwithconversion
+pstr
+nseudoraimport
+nseudoraimport
+eudoralogmodule
+eudoralogmodule
+prnewlogmodule
+import
+importlog
+nseudoraimport
+module
+created
+nseudorastringbundle
+getstringbundle
+nseudoraimport
+nseudoraimport
+importlog
+nseudoraimport
+module
+deleted
+nsimplisupports
+nseudoraimport
+nsiimportmodule
+nsimethodimp
+nseudoraimport
+getname
+prunichar
+name
+nsprecondition
+name
+nsnull
+ptr
+name
+nserrornullpointer
+name
+nseudorastringbundle
+getstringbyid
+eudoraimportname
+nsok
+nsimethodimp
+nseudoraimport
+getdescription
+prunichar
+name
+nsprecondition
+name
+nsnull
+ptr
+name
+nserrornullpointer
+name
+nseudorastringbundle
+getstringbyid
+eudoraimportdescription
+nsok
+nsimethodimp
+nseudoraimport
+getsupports
+supports
+nsprecondition
+supports
+nsnull
+ptr
+supports
+nserrornullpointer
+supports
+nscrt
+strdup
+keudorasupportsstring
+nsok
+nsimethodimp
+nseudoraimport
+getsupportsupgrade
+prbool
+pupgrade
+nsprecondition
+pupgrade
+nsnull
+ptr
+pupgrade
+nserrornullpointer
+pupgrade
+prtrue
+nsok
+nsimethodimp
+nseudoraimport
+getimportinterface
+pimporttype
+nsisupports
+ppinterface
+nsprecondition
+pimporttype
+nsnull
+ptr
+pimporttype
+nserrornullpointer
+nsprecondition
+ppinterface
+nsnull
+ptr
+ppinterface
+nserrornullpointer
+ppinterface
+nsnull
+nsresult
+rv
+nscrt
+strcmp
+pimporttype
+mail
+nsiimportmail
+pmail
+nsnull
+nsiimportgeneric
+pgeneric
+nsnull
+rv
+importeudoramailimpl
+create
+pmail
+nssucceeded
+rv
+nscomptr
+nsiimportservice
+impsvc
+dogetservice
+nsimportservicecontractid
+rv
+nssucceeded
+rv
+rv
+impsvc
+createnewgenericmail
+pgeneric
+nssucceeded
+rv
+pgeneric
+setdata
+mailinterface
+pmail
+nsstring
+name
+nseudorastringbundle
+getstringbyid
+eudoraimportname
+name
+nscomptr
+nsisupportsstring
+namestring
+docreateinstance
+nssupportsstringcontractid
+rv
+nssucceeded
+rv
+namestring
+setdata
+name
+pgeneric
+setdata
+name
+namestring
+rv
+pgeneric
+queryinterface
+kisupportsiid
+ppinterface
+nsifrelease
+pmail
+nsifrelease
+pgeneric
+rv
+nscrt
+strcmp
+pimporttype
+addressbook
+nsiimportaddressbooks
+paddress
+nsnull
+nsiimportgeneric
+pgeneric
+nsnull
+rv
+importeudoraaddressimpl
+create
+paddress
+nssucceeded
+rv
+nscomptr
+nsiimportservice
+impsvc
+dogetservice
+nsimportservicecontractid
+rv
+nssucceeded
+rv
+rv
+impsvc
+createnewgenericaddressbooks
+pgeneric
+nssucceeded
+rv
+pgeneric
+setdata
+addressinterface
+paddress
+rv
+pgeneric
+queryinterface
+kisupportsiid
+ppinterface
+nsifrelease
+paddress
+nsifrelease
+pgeneric
+rv
+nscrt
+strcmp
+pimporttype
+settings
+nsiimportsettings
+psettings
+nsnull
+rv
+nseudorasettings
+create
+psettings
+nssucceeded
+rv
+psettings
+queryinterface
+kisupportsiid
+ppinterface
+nsifrelease
+psettings
+rv
+nserrornotavailable
+nsresult
+importeudoramailimpl
+create
+nsiimportmail
+aimport
+nsprecondition
+aimport
+nsnull
+ptr
+aimport
+nserrornullpointer
+aimport
+importeudoramailimpl
+aimport
+nserroroutofmemory
+nsaddref
+aimport
+nsok
+importeudoramailimpl
+importeudoramailimpl
+importeudoramailimpl
+importeudoramailimpl
+nsimplthreadsafeisupports
+importeudoramailimpl
+nsiimportmail
+nsimethodimp
+importeudoramailimpl
+getdefaultlocation
+nsifilespec
+pploc
+prbool
+found
+prbool
+userverify
+nsprecondition
+pploc
+nsnull
+ptr
+nsprecondition
+found
+nsnull
+ptr
+nsprecondition
+userverify
+nsnull
+ptr
+pploc
+found
+userverify
+nserrornullpointer
+pploc
+nsnull
+nsresult
+rv
+nsifilespec
+spec
+nsfailed
+rv
+nsnewfilespec
+spec
+rv
+found
+meudora
+findmailfolder
+spec
+found
+nsrelease
+spec
+pploc
+spec
+userverify
+prtrue
+nsok
+nsimethodimp
+importeudoramailimpl
+findmailboxes
+nsifilespec
+ploc
+nsisupportsarray
+pparray
+nsprecondition
+ploc
+nsnull
+ptr
+nsprecondition
+pparray
+nsnull
+ptr
+ploc
+pparray
+nserrornullpointer
+prbool
+exists
+prfalse
+nsresult
+rv
+ploc
+exists
+exists
+nsfailed
+rv
+exists
+nserrorfailure
+rv
+meudora
+findmailboxes
+ploc
+pparray
+nsfailed
+rv
+pparray
+nsrelease
+pparray
+pparray
+nsnull
+rv
+importeudoramailimpl
+addlinebreak
+nsstring
+pstream
+pstream
+pstream
+append
+prunichar
+nscrt
+lf
+importeudoramailimpl
+reportsuccess
+nsstring
+name
+print
+count
+nsstring
+pstream
+pstream
+nsistringbundle
+pbundle
+nseudorastringbundle
+getstringbundleproxy
+prunichar
+pfmt
+nseudorastringbundle
+getstringbyid
+eudoraimportmailboxsuccess
+pbundle
+prunichar
+ptext
+nstextformatter
+smprintf
+pfmt
+name
+get
+count
+pstream
+append
+ptext
+nstextformatter
+smprintffree
+ptext
+nseudorastringbundle
+freestring
+pfmt
+addlinebreak
+pstream
+nsifrelease
+pbundle
+importeudoramailimpl
+reporterror
+print
+errornum
+nsstring
+name
+nsstring
+pstream
+pstream
+nsistringbundle
+pbundle
+nseudorastringbundle
+getstringbundleproxy
+prunichar
+pfmt
+nseudorastringbundle
+getstringbyid
+errornum
+prunichar
+ptext
+nstextformatter
+smprintf
+pfmt
+name
+get
+pstream
+append
+ptext
+nstextformatter
+smprintffree
+ptext
+nseudorastringbundle
+freestring
+pfmt
+addlinebreak
+pstream
+nsifrelease
+pbundle
+importeudoramailimpl
+setlogs
+nsstring
+success
+nsstring
+error
+prunichar
+perror
+prunichar
+psuccess
+perror
+perror
+tonewunicode
+error
+psuccess
+psuccess
+tonewunicode
+success
+nsimethodimp
+importeudoramailimpl
+importmailbox
+nsiimportmailboxdescriptor
+psource
+nsifilespec
+pdestination
+prunichar
+perrorlog
+prunichar
+psuccesslog
+prbool
+fatalerror
+nsprecondition
+psource
+nsnull
+ptr
+nsprecondition
+pdestination
+nsnull
+ptr
+nsprecondition
+fatalerror
+nsnull
+ptr
+nscomptr
+nsistringbundle
+bundle
+dontaddref
+nseudorastringbundle
+getstringbundleproxy
+nsstring
+success
+nsstring
+error
+psource
+pdestination
+fatalerror
+importlog
+bad
+param
+passed
+to
+eudora
+mailbox
+nseudorastringbundle
+getstringbyid
+eudoraimportmailboxbadparam
+error
+bundle
+fatalerror
+fatalerror
+prtrue
+setlogs
+success
+error
+perrorlog
+psuccesslog
+nserrornullpointer
+prbool
+abort
+prfalse
+nsstring
+name
+prunichar
+pname
+nssucceeded
+psource
+getdisplayname
+pname
+name
+pname
+nscrt
+free
+pname
+pruint
+mailsize
+psource
+getsize
+mailsize
+mailsize
+importlog
+mailbox
+size
+is
+skipping
+mailbox
+reportsuccess
+name
+success
+setlogs
+success
+error
+perrorlog
+psuccesslog
+nsok
+nsifilespec
+infile
+nsfailed
+psource
+getfilespec
+infile
+reporterror
+eudoraimportmailboxbadsourcefile
+name
+error
+setlogs
+success
+error
+perrorlog
+psuccesslog
+nserrorfailure
+ifdef
+importdebug
+ppath
+infile
+getnativepath
+ppath
+importlog
+import
+mailbox
+ppath
+nscrt
+free
+ppath
+endif
+print
+msgcount
+nsresult
+rv
+nsok
+mbytes
+rv
+meudora
+importmailbox
+mbytes
+abort
+name
+get
+infile
+pdestination
+msgcount
+infile
+release
+nssucceeded
+rv
+reportsuccess
+name
+msgcount
+success
+reporterror
+eudoraimportmailboxconverterror
+name
+error
+setlogs
+success
+error
+perrorlog
+psuccesslog
+importlog
+returning
+from
+eudora
+mailbox
+rv
+nsimethodimp
+importeudoramailimpl
+getimportprogress
+pruint
+pdonesofar
+nsprecondition
+pdonesofar
+nsnull
+ptr
+pdonesofar
+nserrornullpointer
+pdonesofar
+mbytes
+nsok
+nsresult
+importeudoraaddressimpl
+create
+nsiimportaddressbooks
+aimport
+nsprecondition
+aimport
+nsnull
+ptr
+aimport
+nserrornullpointer
+aimport
+importeudoraaddressimpl
+aimport
+nserroroutofmemory
+nsaddref
+aimport
+nsok
+importeudoraaddressimpl
+importeudoraaddressimpl
+importeudoraaddressimpl
+importeudoraaddressimpl
+nsimplthreadsafeisupports
+importeudoraaddressimpl
+nsiimportaddressbooks
+nsimethodimp
+importeudoraaddressimpl
+getautofind
+prunichar
+description
+prbool
+retval
+nsprecondition
+description
+nsnull
+ptr
+nsprecondition
+retval
+nsnull
+ptr
+description
+retval
+nserrornullpointer
+nsstring
+str
+retval
+prfalse
+nseudorastringbundle
+getstringbyid
+eudoraimportnicknamesname
+str
+description
+tonewunicode
+str
+nsok
+nsimethodimp
+importeudoraaddressimpl
+getdefaultlocation
+nsifilespec
+pploc
+prbool
+found
+prbool
+userverify
+nsprecondition
+found
+nsnull
+ptr
+nsprecondition
+pploc
+nsnull
+ptr
+nsprecondition
+userverify
+nsnull
+ptr
+found
+userverify
+pploc
+nserrornullpointer
+pploc
+nsnull
+nsresult
+rv
+nsifilespec
+spec
+nsfailed
+rv
+nsnewfilespec
+spec
+rv
+found
+meudora
+findaddressfolder
+spec
+found
+nsifrelease
+spec
+pploc
+spec
+userverify
+prtrue
+nsok
+nsimethodimp
+importeudoraaddressimpl
+findaddressbooks
+nsifilespec
+ploc
+nsisupportsarray
+pparray
+nsprecondition
+ploc
+nsnull
+ptr
+nsprecondition
+pparray
+nsnull
+ptr
+ploc
+pparray
+nserrornullpointer
+prbool
+exists
+prfalse
+nsresult
+rv
+ploc
+exists
+exists
+nsfailed
+rv
+exists
+nserrorfailure
+rv
+meudora
+findaddressbooks
+ploc
+pparray
+nsfailed
+rv
+pparray
+nsrelease
+pparray
+pparray
+nsnull
+rv
+importeudoraaddressimpl
+reportsuccess
+nsstring
+name
+nsstring
+pstream
+pstream
+nsistringbundle
+pbundle
+nseudorastringbundle
+getstringbundleproxy
+prunichar
+pfmt
+nseudorastringbundle
+getstringbyid
+eudoraimportaddresssuccess
+pbundle
+prunichar
+ptext
+nstextformatter
+smprintf
+pfmt
+name
+get
+pstream
+append
+ptext
+nstextformatter
+smprintffree
+ptext
+nseudorastringbundle
+freestring
+pfmt
+importeudoramailimpl
+addlinebreak
+pstream
+nsifrelease
+pbundle
+nsimethodimp
+importeudoraaddressimpl
+importaddressbook
+nsiimportabdescriptor
+psource
+nsiaddrdatabase
+pdestination
+nsiimportfieldmap
+fieldmap
+prbool
+isaddrlochome
+prunichar
+perrorlog
+prunichar
+psuccesslog
+prbool
+fatalerror
+nsprecondition
+psource
+nsnull
+ptr
+nsprecondition
+pdestination
+nsnull
+ptr
+nsprecondition
+fatalerror
+nsnull
+ptr
+nscomptr
+nsistringbundle
+bundle
+dontaddref
+nseudorastringbundle
+getstringbundleproxy
+nsstring
+success
+nsstring
+error
+psource
+pdestination
+fatalerror
+importlog
+bad
+param
+passed
+to
+eudora
+address
+nseudorastringbundle
+getstringbyid
+eudoraimportaddressbadparam
+error
+bundle
+fatalerror
+fatalerror
+prtrue
+importeudoramailimpl
+setlogs
+success
+error
+perrorlog
+psuccesslog
+nserrornullpointer
+prbool
+abort
+prfalse
+nsstring
+name
+prunichar
+pname
+nssucceeded
+psource
+getpreferredname
+pname
+name
+pname
+nscrt
+free
+pname
+pruint
+addresssize
+psource
+getsize
+addresssize
+addresssize
+importlog
+address
+book
+size
+is
+skipping
+mailbox
+reportsuccess
+name
+success
+importeudoramailimpl
+setlogs
+success
+error
+perrorlog
+psuccesslog
+nsok
+nsifilespec
+infile
+nsfailed
+psource
+getfilespec
+infile
+importeudoramailimpl
+reporterror
+eudoraimportaddressbadsourcefile
+name
+error
+importeudoramailimpl
+setlogs
+success
+error
+perrorlog
+psuccesslog
+nserrorfailure
+ifdef
+importdebug
+ppath
+infile
+getnativepath
+ppath
+importlog
+import
+address
+book
+ppath
+nscrt
+free
+ppath
+endif
+nsresult
+rv
+nsok
+mbytes
+rv
+meudora
+importaddresses
+mbytes
+abort
+name
+get
+infile
+pdestination
+error
+infile
+release
+nssucceeded
+rv
+error
+isempty
+reportsuccess
+name
+success
+importeudoramailimpl
+reporterror
+eudoraimportaddressconverterror
+name
+error
+importeudoramailimpl
+setlogs
+success
+error
+perrorlog
+psuccesslog
+importlog
+returning
+from
+eudora
+address
+rv
+nsimethodimp
+importeudoraaddressimpl
+getimportprogress
+pruint
+retval
+nsprecondition
+retval
+nsnull
+ptr
+retval
+nserrornullpointer
+retval
+mbytes
+nsok
\ No newline at end of file
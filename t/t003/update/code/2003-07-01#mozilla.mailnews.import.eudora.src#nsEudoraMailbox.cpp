@@ -0,0 +1,1772 @@
+nscomptr
+nsreadableutils
+nseudoramailbox
+nsspecialsystemdirectory
+nseudoracompose
+nspr
+eudoradebuglog
+define
+kcopybuffersize
+define
+kmailreadbuffersize
+define
+datestrlen
+define
+kwhitespace
+eudorafromline
+from
+mon
+jan
+xd
+xa
+ifdef
+importdebug
+dumpfilename
+nsifilespec
+pspec
+prbool
+endline
+dumpfilename
+nsifilespec
+pspec
+prbool
+endline
+ppath
+nsnull
+pspec
+pspec
+getnativepath
+ppath
+ppath
+importlog
+ppath
+nscrt
+free
+ppath
+importlog
+unknown
+endline
+importlog
+define
+dumpfilename
+endif
+eudoraweekdays
+mon
+tue
+wed
+thu
+fri
+sat
+sun
+eudoramonths
+jan
+feb
+mar
+apr
+may
+jun
+jul
+aug
+sep
+oct
+nov
+dec
+nseudoramailbox
+nseudoramailbox
+mfromlen
+nseudoramailbox
+nseudoramailbox
+emptyattachments
+nsresult
+nseudoramailbox
+createtempfile
+nsifilespec
+ppspec
+ppspec
+nsnull
+nsspecialsystemdirectory
+temp
+nsspecialsystemdirectory
+ostemporarydirectory
+temp
+impmail
+txt
+temp
+makeunique
+nsresult
+rv
+nsnewfilespecwithspec
+temp
+ppspec
+nssucceeded
+rv
+ppspec
+nsok
+nserrorfailure
+rv
+nsresult
+nseudoramailbox
+deletefile
+nsifilespec
+pspec
+prbool
+result
+nsresult
+rv
+nsok
+result
+prfalse
+pspec
+isstreamopen
+result
+result
+pspec
+closestream
+result
+prfalse
+pspec
+exists
+result
+result
+result
+prfalse
+pspec
+isfile
+result
+result
+nsfilespec
+spec
+rv
+pspec
+getfilespec
+spec
+ifndef
+dontdeleteeudoratempfiles
+nssucceeded
+rv
+spec
+delete
+prfalse
+endif
+rv
+define
+kcomposeerrorstr
+eudora
+compose
+error
+xd
+xa
+nsresult
+nseudoramailbox
+importmailbox
+pruint
+pbytes
+prbool
+pabort
+prunichar
+pname
+nsifilespec
+psrc
+nsifilespec
+pdst
+print
+pmsgcount
+nscomptr
+nsifilespec
+tocfile
+prbool
+deletetoc
+prfalse
+nsresult
+rv
+nscomptr
+nsifilespec
+mailfile
+prbool
+deletemailfile
+prfalse
+pruint
+div
+pruint
+mul
+pmsgcount
+pmsgcount
+rv
+psrc
+getfilesize
+mmailsize
+rv
+psrc
+openstreamforreading
+nsfailed
+rv
+rv
+nsaddref
+psrc
+rv
+findtocfile
+psrc
+getteraddrefs
+tocfile
+deletetoc
+nssucceeded
+rv
+tocfile
+importlog
+reading
+euroda
+toc
+file
+dumpfilename
+tocfile
+prtrue
+rv
+createtempfile
+getteraddrefs
+mailfile
+deletemailfile
+prtrue
+nssucceeded
+rv
+rv
+tocfile
+openstreamforreading
+nssucceeded
+rv
+rv
+mailfile
+openstreamforwriting
+nssucceeded
+rv
+rv
+compactmailbox
+pbytes
+pabort
+psrc
+tocfile
+mailfile
+div
+mul
+psrc
+closestream
+deletetoc
+deletefile
+tocfile
+nssucceeded
+rv
+rv
+mailfile
+closestream
+nsfailed
+rv
+deletefile
+mailfile
+mailfile
+fromfilespec
+psrc
+deletemailfile
+prfalse
+importlog
+error
+compacting
+mailbox
+importlog
+compacted
+mailbox
+dumpfilename
+mailfile
+prtrue
+rv
+mailfile
+openstreamforreading
+nssucceeded
+rv
+psrc
+release
+mailfile
+queryinterface
+nsgetiid
+nsifilespec
+psrc
+importlog
+compacting
+mailbox
+was
+successful
+deletefile
+mailfile
+deletemailfile
+prfalse
+importlog
+error
+accessing
+compacted
+mailbox
+rv
+psrc
+getfilesize
+mmailsize
+nscomptr
+nsifilespec
+compositionfile
+simplebuffertonyrcopiedonce
+readbuffer
+simplebuffertonyrcopiedonce
+headers
+simplebuffertonyrcopiedonce
+body
+simplebuffertonyrcopiedonce
+copy
+print
+written
+nscstring
+fromline
+eudorafromline
+headers
+mconvertcrs
+prtrue
+body
+mconvertcrs
+prtrue
+copy
+allocate
+kcopybuffersize
+readbuffer
+allocate
+kmailreadbuffersize
+readfilestate
+state
+state
+offset
+state
+size
+mmailsize
+state
+pfile
+psrc
+importlog
+reading
+mailbox
+nssucceeded
+rv
+nsnewfilespec
+getteraddrefs
+compositionfile
+nseudoracompose
+compose
+nscstring
+defaultdate
+importlog
+reading
+first
+message
+pabort
+nssucceeded
+rv
+readnextmessage
+state
+readbuffer
+headers
+body
+defaultdate
+pbytes
+pbytes
+body
+mwriteoffset
+headers
+mwriteoffset
+div
+mul
+compose
+setbody
+body
+mpbuffer
+body
+mwriteoffset
+compose
+setheaders
+headers
+mpbuffer
+headers
+mwriteoffset
+compose
+setattachments
+mattachments
+compose
+setdefaultdate
+defaultdate
+rv
+compose
+sendthemessage
+compositionfile
+nssucceeded
+rv
+rv
+compose
+copycomposedmessage
+fromline
+compositionfile
+pdst
+copy
+deletefile
+compositionfile
+nsfailed
+rv
+importlog
+error
+copying
+composed
+message
+to
+destination
+mailbox
+pmsgcount
+pmsgcount
+importlog
+error
+composing
+message
+writing
+raw
+message
+rv
+writefromsep
+pdst
+rv
+pdst
+write
+kcomposeerrorstr
+strlen
+kcomposeerrorstr
+written
+nssucceeded
+rv
+rv
+pdst
+write
+headers
+mpbuffer
+headers
+mwriteoffset
+written
+nssucceeded
+rv
+written
+headers
+mwriteoffset
+rv
+pdst
+write
+xd
+xa
+xd
+xa
+written
+nssucceeded
+rv
+written
+rv
+pdst
+write
+body
+mpbuffer
+body
+mwriteoffset
+written
+nssucceeded
+rv
+written
+body
+mwriteoffset
+rv
+pdst
+write
+xd
+xa
+written
+written
+rv
+nserrorfailure
+nsfailed
+rv
+importlog
+error
+writing
+to
+destination
+mailbox
+readbuffer
+mbytesinbuf
+state
+offset
+state
+size
+importlog
+error
+creating
+file
+spec
+composition
+deletemailfile
+deletefile
+psrc
+psrc
+release
+rv
+defined
+xpmac
+defined
+xpmacosx
+define
+kmsgheadersize
+define
+kmsgfirstoffset
+define
+kmsgheadersize
+define
+kmsgfirstoffset
+endif
+nsresult
+nseudoramailbox
+compactmailbox
+pruint
+pbytes
+prbool
+pabort
+nsifilespec
+pmail
+nsifilespec
+ptoc
+nsifilespec
+pdst
+pruint
+mailsize
+mmailsize
+pruint
+tocsize
+pruint
+msgcount
+nsresult
+rv
+rv
+ptoc
+getfilesize
+tocsize
+mailsize
+tocsize
+nserrorfailure
+simplebuffertonyrcopiedonce
+copy
+prbool
+done
+prfalse
+print
+tocoffset
+kmsgfirstoffset
+print
+data
+print
+count
+print
+read
+print
+written
+pbuffer
+lastchar
+copy
+allocate
+kcopybuffersize
+importlog
+compacting
+mailbox
+pabort
+tocoffset
+print
+tocsize
+nsfailed
+rv
+ptoc
+seek
+tocoffset
+rv
+pbuffer
+data
+nsfailed
+rv
+ptoc
+read
+pbuffer
+read
+read
+nserrorfailure
+nsfailed
+rv
+pmail
+seek
+data
+rv
+count
+kcopybuffersize
+count
+data
+count
+data
+pbuffer
+copy
+mpbuffer
+nsfailed
+rv
+pmail
+read
+pbuffer
+count
+read
+read
+count
+nserrorfailure
+count
+nserrorfailure
+copy
+mpbuffer
+copy
+mpbuffer
+copy
+mpbuffer
+copy
+mpbuffer
+copy
+mpbuffer
+nserrorfailure
+pbytes
+pbytes
+data
+data
+lastchar
+copy
+mpbuffer
+count
+nsfailed
+rv
+pdst
+write
+copy
+mpbuffer
+count
+written
+written
+count
+nserrorfailure
+data
+count
+data
+pbuffer
+copy
+mpbuffer
+count
+kcopybuffersize
+count
+data
+count
+data
+nsfailed
+rv
+pmail
+read
+pbuffer
+count
+read
+read
+count
+nserrorfailure
+lastchar
+xd
+lastchar
+xa
+nsfailed
+rv
+pdst
+write
+xd
+xa
+written
+written
+rv
+importlog
+message
+processed
+msgcount
+tocoffset
+kmsgheadersize
+importlog
+finished
+nsok
+nsresult
+nseudoramailbox
+readnextmessage
+readfilestate
+pstate
+simplebuffertonyrcopiedonce
+copy
+simplebuffertonyrcopiedonce
+header
+simplebuffertonyrcopiedonce
+body
+nscstring
+defaultdate
+header
+mwriteoffset
+body
+mwriteoffset
+nsresult
+rv
+print
+linelen
+endbuffer
+linelen
+linelen
+nsfailed
+rv
+fillmailbuffer
+pstate
+copy
+importlog
+error
+fillmailbuffer
+failed
+in
+readnextmessage
+rv
+linelen
+iseudorafromseparator
+copy
+mpbuffer
+copy
+mwriteoffset
+copy
+mbytesinbuf
+copy
+mwriteoffset
+defaultdate
+linelen
+linelen
+findstartline
+copy
+copy
+mwriteoffset
+copy
+mbytesinbuf
+nsfailed
+rv
+fillmailbuffer
+pstate
+copy
+importlog
+error
+fillmailbuffer
+failed
+in
+readnextmessage
+looking
+next
+start
+line
+rv
+copy
+mbytesinbuf
+importlog
+error
+readnextmessage
+looking
+start
+of
+next
+line
+got
+end
+of
+file
+nserrorfailure
+copy
+mwriteoffset
+linelen
+linelen
+linelen
+findstartline
+copy
+copy
+mwriteoffset
+copy
+mbytesinbuf
+nsfailed
+rv
+fillmailbuffer
+pstate
+copy
+importlog
+error
+readnextmessage
+fillmailbuffer
+failed
+looking
+from
+sep
+rv
+copy
+mbytesinbuf
+importlog
+error
+readnextmessage
+end
+of
+file
+looking
+from
+sep
+nserrorfailure
+copy
+mwriteoffset
+linelen
+nsfailed
+rv
+fillmailbuffer
+pstate
+copy
+importlog
+error
+unable
+to
+fill
+mail
+buffer
+after
+from
+sep
+rv
+print
+endlen
+endlen
+isendheaders
+copy
+linelen
+findnextendline
+copy
+copy
+mwriteoffset
+copy
+mbytesinbuf
+header
+write
+copy
+mpbuffer
+copy
+mwriteoffset
+importlog
+error
+writing
+headers
+nserrorfailure
+nsfailed
+rv
+fillmailbuffer
+pstate
+copy
+importlog
+error
+reading
+message
+headers
+rv
+copy
+mbytesinbuf
+importlog
+error
+end
+of
+file
+reading
+headers
+nserrorfailure
+copy
+mwriteoffset
+linelen
+copy
+mwriteoffset
+copy
+mbytesinbuf
+header
+write
+copy
+mpbuffer
+copy
+mwriteoffset
+importlog
+error
+writing
+headers
+nserrorfailure
+nsfailed
+rv
+fillmailbuffer
+pstate
+copy
+importlog
+error
+reading
+message
+headers
+rv
+header
+write
+copy
+mpbuffer
+copy
+mwriteoffset
+importlog
+error
+writing
+headers
+nserrorfailure
+header
+write
+endbuffer
+importlog
+error
+writing
+header
+trailing
+nserrorfailure
+copy
+mwriteoffset
+endlen
+nsfailed
+rv
+fillmailbuffer
+pstate
+copy
+importlog
+error
+reading
+beginning
+of
+message
+body
+rv
+emptyattachments
+nscstring
+tmp
+linelen
+iseudorafromseparator
+copy
+mpbuffer
+copy
+mwriteoffset
+copy
+mbytesinbuf
+copy
+mwriteoffset
+tmp
+rv
+examineattachment
+copy
+nsfailed
+rv
+importlog
+error
+examining
+attachment
+line
+rv
+linelen
+findstartline
+copy
+copy
+mbytesinbuf
+copy
+mwriteoffset
+copy
+mbytesinbuf
+body
+write
+copy
+mpbuffer
+copy
+mwriteoffset
+importlog
+error
+writing
+to
+message
+body
+nserrorfailure
+nsfailed
+rv
+fillmailbuffer
+pstate
+copy
+importlog
+error
+reading
+message
+body
+rv
+copy
+mbytesinbuf
+copy
+mwriteoffset
+linelen
+copy
+mwriteoffset
+copy
+mbytesinbuf
+body
+write
+copy
+mpbuffer
+copy
+mwriteoffset
+importlog
+error
+writing
+to
+message
+body
+nserrorfailure
+nsfailed
+rv
+fillmailbuffer
+pstate
+copy
+importlog
+error
+reading
+message
+body
+rv
+body
+write
+copy
+mpbuffer
+copy
+mwriteoffset
+importlog
+error
+writing
+message
+body
+nserrorfailure
+body
+write
+endbuffer
+importlog
+error
+writing
+body
+trailing
+importlog
+tbody
+msize
+ld
+body
+mwriteoffset
+ld
+body
+msize
+body
+mwriteoffset
+nserrorfailure
+nsfailed
+rv
+fillmailbuffer
+pstate
+copy
+importlog
+error
+filling
+mail
+buffer
+next
+read
+message
+rv
+nsok
+print
+nseudoramailbox
+findstartline
+simplebuffertonyrcopiedonce
+data
+print
+len
+data
+mbytesinbuf
+data
+mwriteoffset
+len
+print
+count
+pdata
+data
+mpbuffer
+data
+mwriteoffset
+pdata
+xd
+pdata
+xa
+count
+len
+pdata
+count
+count
+len
+pdata
+xd
+pdata
+xa
+count
+len
+pdata
+count
+count
+len
+count
+print
+nseudoramailbox
+findnextendline
+simplebuffertonyrcopiedonce
+data
+print
+len
+data
+mbytesinbuf
+data
+mwriteoffset
+len
+print
+count
+pdata
+data
+mpbuffer
+data
+mwriteoffset
+pdata
+xd
+pdata
+xa
+count
+len
+pdata
+count
+pdata
+xd
+pdata
+xa
+count
+len
+pdata
+count
+count
+len
+count
+print
+nseudoramailbox
+isendheaders
+simplebuffertonyrcopiedonce
+data
+print
+len
+data
+mbytesinbuf
+data
+mwriteoffset
+len
+pchar
+data
+mpbuffer
+data
+mwriteoffset
+pchar
+xd
+pchar
+xd
+len
+pchar
+xd
+pchar
+xa
+pchar
+xd
+pchar
+xa
+print
+nseudoramailbox
+iseudorafromseparator
+pchar
+print
+maxlen
+nscstring
+defaultdate
+maxlen
+print
+len
+pchar
+pchar
+pchar
+pchar
+pchar
+len
+pchar
+pchar
+len
+maxlen
+pchar
+len
+len
+maxlen
+print
+linelen
+len
+ptok
+pchar
+linelen
+maxlen
+ptok
+xd
+ptok
+xa
+linelen
+ptok
+len
+linelen
+quote
+pchar
+quote
+quote
+pchar
+len
+len
+linelen
+pchar
+quote
+pchar
+len
+len
+linelen
+len
+pchar
+len
+linelen
+pchar
+pchar
+pchar
+len
+pchar
+pchar
+len
+linelen
+pchar
+len
+len
+linelen
+day
+month
+year
+weekday
+other
+result
+tymstr
+prbool
+tym
+prfalse
+prbool
+remote
+prfalse
+prbool
+from
+prfalse
+print
+toklen
+print
+tokstart
+print
+num
+len
+linelen
+other
+ptok
+pchar
+tokstart
+len
+len
+linelen
+pchar
+pchar
+pchar
+pchar
+len
+toklen
+len
+tokstart
+toklen
+num
+asciitolong
+ptok
+toklen
+toklen
+result
+isweekdaystr
+ptok
+weekday
+weekday
+result
+toklen
+result
+ismonthstr
+ptok
+month
+month
+result
+toklen
+nscrt
+strncasecmp
+ptok
+remote
+remote
+from
+remote
+prtrue
+toklen
+nscrt
+strncasecmp
+ptok
+from
+remote
+from
+from
+prtrue
+toklen
+num
+nscrt
+strncmp
+ptok
+year
+year
+num
+year
+year
+year
+day
+toklen
+ptok
+ptok
+num
+num
+num
+year
+num
+toklen
+ptok
+ptok
+day
+num
+day
+day
+day
+toklen
+ptok
+toklen
+toklen
+ptok
+result
+result
+toklen
+result
+result
+result
+ptok
+result
+ptok
+result
+result
+toklen
+tym
+tym
+prtrue
+memcpy
+tymstr
+ptok
+toklen
+toklen
+tymstr
+tymstr
+tymstr
+tymstr
+other
+other
+len
+linelen
+pchar
+pchar
+pchar
+pchar
+len
+day
+year
+month
+tym
+other
+len
+linelen
+len
+pchar
+len
+maxlen
+pchar
+xd
+len
+pchar
+pchar
+xa
+len
+pchar
+pchar
+xa
+len
+pchar
+len
+maxlen
+len
+maxlen
+pchar
+xd
+pchar
+xa
+pchar
+pchar
+pchar
+len
+dateheaderstr
+datestrlen
+prsnprintf
+dateheaderstr
+datestrlen
+date
+eudoraweekdays
+weekday
+day
+eudoramonths
+month
+year
+tymstr
+defaultdate
+assign
+dateheaderstr
+linelen
+print
+nseudoramailbox
+asciitolong
+pchar
+print
+len
+print
+num
+len
+pchar
+pchar
+num
+num
+num
+pchar
+len
+pchar
+num
+nseudoramailbox
+isweekdaystr
+pstr
+nscrt
+strncasecmp
+pstr
+eudoraweekdays
+nseudoramailbox
+ismonthstr
+pstr
+nscrt
+strncasecmp
+pstr
+eudoramonths
+nsresult
+nseudoramailbox
+writefromsep
+nsifilespec
+pdst
+mfromlen
+mfromlen
+strlen
+eudorafromline
+print
+written
+nsresult
+rv
+pdst
+write
+eudorafromline
+mfromlen
+written
+nssucceeded
+rv
+written
+mfromlen
+nserrorfailure
+rv
+nseudoramailbox
+emptyattachments
+print
+max
+mattachments
+count
+importattachment
+pattach
+print
+max
+pattach
+importattachment
+mattachments
+elementat
+pattach
+nsifrelease
+pattach
+pattachment
+nscrt
+free
+pattach
+description
+nscrt
+free
+pattach
+mimetype
+pattach
+mattachments
+clear
+eudoraattachlines
+attachment
+converted
+attachment
+converted
+print
+eudoraattachlen
+nsresult
+nseudoramailbox
+examineattachment
+simplebuffertonyrcopiedonce
+data
+print
+len
+data
+mbytesinbuf
+data
+mwriteoffset
+pchar
+data
+mpbuffer
+data
+mwriteoffset
+pdata
+pstart
+print
+namelen
+quote
+print
+cnt
+print
+idx
+cnt
+eudoraattachlen
+idx
+nscrt
+strncmp
+eudoraattachlines
+idx
+pchar
+cnt
+pdata
+pchar
+cnt
+pdata
+pdata
+cnt
+len
+cnt
+pdata
+pdata
+pchar
+quote
+pdata
+namelen
+quote
+quote
+pdata
+cnt
+pstart
+pdata
+pdata
+quote
+cnt
+len
+cnt
+pdata
+namelen
+pstart
+pdata
+pdata
+xd
+pdata
+xa
+cnt
+len
+pdata
+cnt
+namelen
+nscstring
+filename
+filename
+append
+pstart
+namelen
+filename
+trim
+kwhitespace
+filename
+length
+ifdef
+xpmacosx
+nsok
+addattachment
+filename
+nsok
+endif
+idx
+nsok
+prbool
+nseudoramailbox
+addattachment
+nscstring
+filename
+importlog
+found
+attachment
+filename
+get
+nsifilespec
+pspec
+nsresult
+rv
+nsnewfilespec
+pspec
+nsfailed
+rv
+prfalse
+nscstring
+mimetype
+nsfailed
+getattachmentinfo
+filename
+get
+pspec
+mimetype
+nsrelease
+pspec
+prfalse
+importattachment
+importattachment
+mimetype
+tonewcstring
+mimetype
+description
+nscrt
+strdup
+attached
+file
+pattachment
+pspec
+mattachments
+appendelement
+prtrue
+nsresult
+nseudoramailbox
+fillmailbuffer
+readfilestate
+pstate
+simplebuffertonyrcopiedonce
+read
+read
+mwriteoffset
+read
+mbytesinbuf
+read
+mwriteoffset
+read
+mbytesinbuf
+read
+mwriteoffset
+memcpy
+read
+mpbuffer
+read
+mpbuffer
+read
+mwriteoffset
+read
+mbytesinbuf
+read
+mwriteoffset
+read
+mbytesinbuf
+read
+mwriteoffset
+read
+mwriteoffset
+print
+count
+read
+msize
+read
+mbytesinbuf
+pruint
+count
+pstate
+offset
+pstate
+size
+count
+pstate
+size
+pstate
+offset
+count
+print
+bytesread
+pbuffer
+read
+mpbuffer
+read
+mbytesinbuf
+nsresult
+rv
+pstate
+pfile
+read
+pbuffer
+count
+bytesread
+nsfailed
+rv
+rv
+bytesread
+count
+nserrorfailure
+read
+mbytesinbuf
+bytesread
+pstate
+offset
+bytesread
+nsok
\ No newline at end of file
@@ -0,0 +1,204 @@
+nscomptr
+nscore
+nseudorasettings
+nseudorastringbundle
+eudoradebuglog
+defined
+xpwin
+defined
+xpos
+nseudorawin
+endif
+defined
+xpmac
+defined
+xpmacosx
+nseudoramac
+endif
+nsresult
+nseudorasettings
+create
+nsiimportsettings
+aimport
+nsprecondition
+aimport
+nsnull
+ptr
+aimport
+nserrornullpointer
+aimport
+nseudorasettings
+aimport
+nserroroutofmemory
+nsaddref
+aimport
+nsok
+nseudorasettings
+nseudorasettings
+mplocation
+nsnull
+nseudorasettings
+nseudorasettings
+nsifrelease
+mplocation
+nsimplisupports
+nseudorasettings
+nsiimportsettings
+nsimethodimp
+nseudorasettings
+autolocate
+prunichar
+description
+nsifilespec
+location
+prbool
+retval
+nsprecondition
+description
+nsnull
+ptr
+nsprecondition
+retval
+nsnull
+ptr
+nsprecondition
+location
+nsnull
+ptr
+description
+retval
+location
+nserrornullpointer
+description
+nsnull
+retval
+prfalse
+location
+nsnull
+nsresult
+rv
+nsfailed
+rv
+nsnewfilespec
+location
+rv
+description
+nseudorastringbundle
+getstringbyid
+eudoraimportname
+defined
+xpwin
+defined
+xpos
+retval
+nseudorawin
+findsettingsfile
+location
+endif
+mplocation
+location
+nsifaddref
+mplocation
+nsok
+nsimethodimp
+nseudorasettings
+setlocation
+nsifilespec
+location
+nsifrelease
+mplocation
+mplocation
+location
+nsifaddref
+mplocation
+nsok
+nsimethodimp
+nseudorasettings
+import
+nsimsgaccount
+localmailaccount
+prbool
+retval
+nsprecondition
+retval
+nsnull
+ptr
+nsresult
+rv
+retval
+prfalse
+mplocation
+defined
+xpwin
+defined
+xpos
+nssucceeded
+rv
+nsnewfilespec
+mplocation
+nseudorawin
+findsettingsfile
+mplocation
+nsifrelease
+mplocation
+mplocation
+nsnull
+endif
+defined
+xpmac
+defined
+xpmacosx
+nssucceeded
+rv
+nsnewfilespec
+mplocation
+nseudoramac
+findsettingsfile
+mplocation
+nsifrelease
+mplocation
+mplocation
+nsnull
+endif
+mplocation
+importlog
+error
+unable
+to
+locate
+settings
+file
+nserrorfailure
+defined
+xpwin
+defined
+xpos
+retval
+nseudorawin
+importsettings
+mplocation
+localmailaccount
+endif
+defined
+xpmac
+defined
+xpmacosx
+retval
+nseudoramac
+importsettings
+mplocation
+localmailaccount
+endif
+retval
+importlog
+successful
+of
+eudora
+settings
+importlog
+error
+unsuccessful
+of
+eudora
+settings
+nsok
\ No newline at end of file
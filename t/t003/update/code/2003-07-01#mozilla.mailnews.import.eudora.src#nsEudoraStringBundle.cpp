@@ -0,0 +1,141 @@
+prprf
+prmem
+nscomptr
+nsreadableutils
+nsistringbundle
+nseudorastringbundle
+nsiservicemanager
+nsiproxyobjectmanager
+nsiuri
+nsdefinecid
+kproxyobjectmanagercid
+nsproxyeventmanagercid
+define
+eudoramsgsurl
+messenger
+locale
+eudoraimportmsgs
+properties
+nsistringbundle
+nseudorastringbundle
+mpbundle
+nsnull
+nsistringbundle
+nseudorastringbundle
+getstringbundle
+mpbundle
+mpbundle
+nsresult
+rv
+propertyurl
+eudoramsgsurl
+nsistringbundle
+sbundle
+nsnull
+nscomptr
+nsistringbundleservice
+sbundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nssucceeded
+rv
+nsnull
+sbundleservice
+rv
+sbundleservice
+createbundle
+propertyurl
+sbundle
+mpbundle
+sbundle
+sbundle
+nsistringbundle
+nseudorastringbundle
+getstringbundleproxy
+mpbundle
+nsnull
+nsistringbundle
+strproxy
+nsnull
+nsresult
+rv
+nscomptr
+nsiproxyobjectmanager
+proxymgr
+dogetservice
+kproxyobjectmanagercid
+rv
+nssucceeded
+rv
+rv
+proxymgr
+getproxyforobject
+nsuithreadeventq
+nsgetiid
+nsistringbundle
+mpbundle
+proxysync
+proxyalways
+strproxy
+strproxy
+nseudorastringbundle
+getstringbyid
+print
+stringid
+nsstring
+result
+nsistringbundle
+pbundle
+prunichar
+ptrv
+getstringbyid
+stringid
+pbundle
+result
+ptrv
+freestring
+ptrv
+prunichar
+nseudorastringbundle
+getstringbyid
+print
+stringid
+nsistringbundle
+pbundle
+pbundle
+pbundle
+getstringbundle
+pbundle
+prunichar
+ptrv
+nsnull
+nsresult
+rv
+pbundle
+getstringfromid
+stringid
+ptrv
+nssucceeded
+rv
+ptrv
+ptrv
+nsstring
+resultstring
+nsliteralstring
+stringid
+resultstring
+appendint
+stringid
+resultstring
+append
+nsliteralstring
+tonewunicode
+resultstring
+nseudorastringbundle
+cleanup
+mpbundle
+mpbundle
+release
+mpbundle
+nsnull
\ No newline at end of file
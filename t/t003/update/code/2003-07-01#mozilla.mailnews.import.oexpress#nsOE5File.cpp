@@ -0,0 +1,726 @@
+nsoefile
+nscrt
+oedebuglog
+nsmsgutils
+define
+kindexgrowby
+define
+ksignaturesize
+define
+kdontseek
+xffffffff
+gsig
+xcf
+xad
+xfe
+xc
+xfd
+xf
+xe
+xd
+prbool
+nsoefile
+verifylocalmailfile
+nsifilespec
+pfile
+sig
+ksignaturesize
+readbytes
+pfile
+sig
+ksignaturesize
+prfalse
+prbool
+result
+prtrue
+ksignaturesize
+result
+sig
+gsig
+result
+prfalse
+storename
+readbytes
+pfile
+storename
+xc
+result
+prfalse
+storename
+nscrt
+strcasecmp
+localstore
+storename
+result
+prfalse
+result
+prbool
+nsoefile
+islocalmailfile
+nsifilespec
+pfile
+nsresult
+rv
+prbool
+isfile
+prfalse
+rv
+pfile
+isfile
+isfile
+nsfailed
+rv
+isfile
+prfalse
+rv
+pfile
+openstreamforreading
+nsfailed
+rv
+prfalse
+prbool
+result
+verifylocalmailfile
+pfile
+pfile
+closestream
+result
+prbool
+nsoefile
+readindex
+nsifilespec
+pfile
+pruint
+ppindex
+pruint
+psize
+ppindex
+nsnull
+psize
+signature
+readbytes
+pfile
+signature
+prfalse
+signature
+gsig
+importlog
+outlook
+dbx
+file
+signature
+doesn
+match
+prfalse
+pruint
+offset
+xe
+pruint
+indexstart
+readbytes
+pfile
+indexstart
+offset
+importlog
+unable
+to
+read
+offset
+to
+index
+start
+prfalse
+pruintarray
+array
+array
+count
+array
+alloc
+kindexgrowby
+array
+pindex
+pruint
+kindexgrowby
+pruint
+next
+readmsgindex
+pfile
+indexstart
+array
+next
+next
+readmsgindex
+pfile
+next
+array
+array
+count
+psize
+array
+count
+ppindex
+array
+pindex
+prtrue
+array
+pindex
+prfalse
+pruint
+nsoefile
+readmsgindex
+nsifilespec
+file
+pruint
+offset
+pruintarray
+parray
+pruint
+marker
+readbytes
+file
+marker
+offset
+marker
+offset
+pruint
+vals
+readbytes
+file
+vals
+offset
+pruint
+len
+readbytes
+file
+len
+offset
+pruint
+cnt
+pruint
+len
+cnt
+pruint
+pdata
+pruint
+cnt
+readbytes
+file
+pdata
+offset
+cnt
+pdata
+pruint
+next
+pruint
+indexoffset
+pruint
+precord
+pdata
+pruint
+pnewindex
+pruint
+pruint
+len
+precord
+indexoffset
+precord
+parray
+count
+parray
+alloc
+pnewindex
+pruint
+parray
+alloc
+kindexgrowby
+memcpy
+pnewindex
+parray
+pindex
+parray
+alloc
+parray
+alloc
+kindexgrowby
+parray
+pindex
+parray
+pindex
+pnewindex
+parray
+pindex
+parray
+count
+indexoffset
+parray
+count
+next
+precord
+next
+next
+readmsgindex
+file
+next
+parray
+pdata
+vals
+prbool
+nsoefile
+isfromline
+pline
+pruint
+len
+len
+pline
+pline
+pline
+pline
+pline
+prtrue
+prfalse
+define
+kmailboxbuffersize
+nsoefile
+mpfromlinesep
+from
+mon
+jan
+xd
+xa
+nsresult
+nsoefile
+importmailbox
+pruint
+pbytesdone
+prbool
+pabort
+nsstring
+name
+nsifilespec
+infile
+nsifilespec
+pdestination
+pruint
+pcount
+nsresult
+rv
+print
+msgcount
+pcount
+pcount
+rv
+infile
+openstreamforreading
+nsfailed
+rv
+rv
+rv
+pdestination
+openstreamforwriting
+nsfailed
+rv
+infile
+closestream
+rv
+pruint
+pindex
+pruint
+indexsize
+readindex
+infile
+pindex
+indexsize
+importlog
+no
+messages
+found
+in
+mailbox
+name
+get
+infile
+closestream
+pdestination
+closestream
+nsok
+pbuffer
+kmailboxbuffersize
+pabort
+convertindex
+infile
+pbuffer
+pindex
+indexsize
+pruint
+block
+print
+seplen
+print
+strlen
+mpfromlinesep
+print
+written
+pruint
+didbytes
+pruint
+next
+size
+pstart
+pend
+partiallinestart
+nscautostring
+partialline
+templine
+rv
+nsok
+pruint
+indexsize
+pabort
+pindex
+readbytes
+infile
+block
+pindex
+block
+pindex
+block
+kmailboxbuffersize
+readbytes
+infile
+pbuffer
+kdontseek
+block
+size
+block
+pstart
+pbuffer
+pend
+pstart
+size
+isfromline
+pbuffer
+size
+pchar
+pstart
+pchar
+pend
+pchar
+nscrt
+cr
+pchar
+nscrt
+lf
+pchar
+pchar
+pend
+rv
+pdestination
+write
+pstart
+pchar
+pstart
+written
+nsensuresuccess
+rv
+rv
+pstart
+pchar
+rv
+pdestination
+write
+mpfromlinesep
+seplen
+written
+nsfailed
+rv
+partialline
+truncate
+partiallinestart
+pend
+size
+pend
+nscrt
+cr
+pend
+nscrt
+lf
+partiallinestart
+partiallinestart
+pstart
+partiallinestart
+nscrt
+cr
+partiallinestart
+nscrt
+lf
+partiallinestart
+partiallinestart
+pend
+partiallinestart
+partialline
+assign
+partiallinestart
+pend
+partiallinestart
+rv
+escapefromspaceline
+pdestination
+pstart
+partiallinestart
+nsfailed
+rv
+didbytes
+block
+next
+block
+next
+partialline
+length
+rv
+escapefromspaceline
+pdestination
+partialline
+get
+partialline
+get
+partialline
+length
+readbytes
+infile
+block
+next
+block
+next
+block
+kmailboxbuffersize
+readbytes
+infile
+pbuffer
+kdontseek
+block
+size
+block
+pstart
+pbuffer
+pend
+pstart
+size
+partialline
+length
+pstart
+pend
+pstart
+nscrt
+cr
+pstart
+nscrt
+lf
+pstart
+templine
+assign
+pbuffer
+pstart
+pbuffer
+partialline
+append
+templine
+rv
+escapefromspaceline
+pdestination
+partialline
+get
+partialline
+get
+partialline
+length
+nsfailed
+rv
+size
+pstart
+pbuffer
+pstart
+importlog
+error
+reading
+message
+from
+at
+lx
+name
+get
+pindex
+rv
+pdestination
+write
+xd
+xa
+written
+next
+next
+rv
+pdestination
+write
+xd
+xa
+written
+nsfailed
+rv
+msgcount
+pcount
+pcount
+msgcount
+pbytesdone
+pbytesdone
+didbytes
+importlog
+error
+reading
+message
+from
+at
+lx
+name
+get
+pindex
+pabort
+prtrue
+pbuffer
+infile
+closestream
+pdestination
+closestream
+nsfailed
+rv
+pabort
+prtrue
+rv
+nsoefile
+convertindex
+nsifilespec
+pfile
+pbuffer
+pruint
+pindex
+pruint
+size
+pruint
+recordhead
+pruint
+marker
+pruint
+recordsize
+pruint
+numattrs
+pruint
+offset
+pruint
+attrindex
+pruint
+attroffset
+pruint
+tag
+pruint
+tagdata
+pruint
+size
+offset
+readbytes
+pfile
+recordhead
+pindex
+memcpy
+marker
+recordhead
+memcpy
+recordsize
+recordhead
+numattrs
+pruint
+recordhead
+marker
+pindex
+recordsize
+kmailboxbuffersize
+numattrs
+recordsize
+readbytes
+pfile
+pbuffer
+kdontseek
+recordsize
+attroffset
+attrindex
+attrindex
+numattrs
+attrindex
+attroffset
+tag
+pruint
+pbuffer
+attroffset
+tag
+pruint
+tagdata
+memcpy
+tagdata
+pbuffer
+attroffset
+offset
+tagdata
+tag
+pruint
+tagdata
+memcpy
+tagdata
+pbuffer
+attroffset
+numattrs
+tagdata
+recordsize
+memcpy
+offset
+pbuffer
+numattrs
+tagdata
+pindex
+offset
+prbool
+nsoefile
+readbytes
+nsifilespec
+stream
+pbuffer
+pruint
+offset
+pruint
+bytes
+nsresult
+rv
+offset
+kdontseek
+rv
+stream
+seek
+offset
+nsfailed
+rv
+prfalse
+bytes
+prtrue
+print
+cntread
+preadto
+pbuffer
+rv
+stream
+read
+preadto
+bytes
+cntread
+nsfailed
+rv
+pruint
+cntread
+bytes
+prfalse
+prtrue
\ No newline at end of file
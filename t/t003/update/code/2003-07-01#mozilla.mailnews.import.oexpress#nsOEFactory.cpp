@@ -0,0 +1,89 @@
+nscomptr
+nsimodule
+nsigenericfactory
+nsiservicemanager
+nsiimportservice
+nsoeimport
+nscrt
+nsicategorymanager
+nsxpidlstring
+nsoestringbundle
+oedebuglog
+nsdefinecid
+koeimportcid
+nsoeimportcid
+nsmethod
+oeregister
+nsicomponentmanager
+acompmgr
+nsifile
+apath
+registrylocation
+componenttype
+nsmodulecomponentinfo
+info
+nsresult
+rv
+nscomptr
+nsicategorymanager
+catman
+dogetservice
+nscategorymanagercontractid
+rv
+nssucceeded
+rv
+nsxpidlcstring
+replace
+thecid
+koeimportcid
+tostring
+rv
+catman
+addcategoryentry
+mailnewsimport
+thecid
+koesupportsstring
+prtrue
+prtrue
+gettercopies
+replace
+nscrt
+free
+thecid
+nsfailed
+rv
+importlog
+error
+problem
+registering
+outlook
+express
+component
+in
+the
+category
+manager
+rv
+nsgenericfactoryconstructor
+nsoeimport
+nsmodulecomponentinfo
+components
+outlook
+express
+import
+component
+nsoeimportcid
+oe
+nsoeimportconstructor
+oeregister
+nsnull
+prstaticcallback
+oemoduledtor
+nsimodule
+self
+nsoestringbundle
+cleanup
+nsimplnsgetmodulewithdtor
+nsoeimport
+components
+oemoduledtor
\ No newline at end of file
@@ -0,0 +1,1556 @@
+nsoescanboxes
+nsicomponentmanager
+nsiservicemanager
+nsiimportservice
+nsiimportmailboxdescriptor
+nsoeregutil
+nsoefile
+oedebuglog
+nsdefineiid
+kisupportsiid
+nsisupportsiid
+nsoescanboxes
+nsoescanboxes
+mpfirst
+nsnull
+nsoescanboxes
+nsoescanboxes
+max
+mailboxentry
+pentry
+max
+mentryarray
+count
+max
+pentry
+mailboxentry
+mentryarray
+elementat
+pentry
+max
+mpendingchildarray
+count
+max
+pentry
+mailboxentry
+mpendingchildarray
+elementat
+pentry
+processed
+pentry
+nsoescanboxes
+converttounicode
+pstr
+nsstring
+dist
+nsresult
+rv
+nsok
+mservice
+mservice
+dogetservice
+nsimportservicecontractid
+mservice
+rv
+mservice
+systemstringtounicode
+pstr
+dist
+mservice
+nsfailed
+rv
+dist
+assignwithconversion
+pstr
+prbool
+nsoescanboxes
+findmail
+nsifilespec
+pwhere
+nsresult
+rv
+prbool
+success
+prfalse
+hkey
+skey
+regopenkeyex
+hkeycurrentuser
+identities
+keyqueryvalue
+skey
+errorsuccess
+byte
+pbytes
+nsoeregutil
+getvaluebytes
+skey
+default
+user
+id
+regclosekey
+skey
+pbytes
+nscstring
+key
+identities
+key
+pbytes
+nsoeregutil
+freevaluebytes
+pbytes
+key
+software
+microsoft
+outlook
+express
+regopenkeyex
+hkeycurrentuser
+key
+get
+keyqueryvalue
+skey
+errorsuccess
+pbytes
+nsoeregutil
+getvaluebytes
+skey
+store
+root
+pbytes
+pwhere
+setnativepath
+pbytes
+importlog
+setting
+path
+pbytes
+nsoeregutil
+freevaluebytes
+pbytes
+prbool
+isdir
+prfalse
+rv
+pwhere
+isdirectory
+isdir
+isdir
+nssucceeded
+rv
+success
+prtrue
+regclosekey
+skey
+success
+prbool
+nsoescanboxes
+findmail
+nsifilespec
+pwhere
+nsresult
+rv
+prbool
+success
+prfalse
+hkey
+skey
+findmail
+pwhere
+prtrue
+regopenkeyex
+hkeycurrentuser
+software
+microsoft
+outlook
+express
+keyqueryvalue
+skey
+errorsuccess
+lpbyte
+pbytes
+nsoeregutil
+getvaluebytes
+skey
+store
+root
+pbytes
+pwhere
+setnativepath
+pbytes
+pwhere
+appendrelativeunixpath
+mail
+prbool
+isdir
+prfalse
+rv
+pwhere
+isdirectory
+isdir
+isdir
+nssucceeded
+rv
+success
+prtrue
+pbytes
+regclosekey
+skey
+success
+prbool
+nsoescanboxes
+getmailboxes
+nsifilespec
+pwhere
+nsisupportsarray
+parray
+path
+nsnull
+pwhere
+getnsprpath
+path
+path
+importlog
+looking
+mail
+in
+path
+nscrt
+free
+path
+pwhere
+getleafname
+path
+path
+importlog
+looking
+mail
+in
+path
+nscrt
+free
+path
+importlog
+unable
+to
+get
+info
+about
+where
+to
+look
+mail
+nsifilespec
+where
+nsfailed
+nsnewfilespec
+where
+prfalse
+where
+fromfilespec
+pwhere
+prbool
+result
+where
+appendrelativeunixpath
+folders
+dbx
+findmailboxes
+where
+where
+closestream
+result
+getmailboxlist
+pwhere
+parray
+where
+fromfilespec
+pwhere
+where
+appendrelativeunixpath
+folders
+nch
+findmailboxes
+where
+where
+closestream
+result
+getmailboxlist
+pwhere
+parray
+where
+closestream
+where
+fromfilespec
+pwhere
+scanmailboxdir
+where
+result
+getmailboxlist
+pwhere
+parray
+where
+release
+result
+nsoescanboxes
+reset
+max
+mentryarray
+count
+max
+mailboxentry
+pentry
+mailboxentry
+mentryarray
+elementat
+pentry
+mentryarray
+clear
+mpfirst
+nsnull
+prbool
+nsoescanboxes
+findmailboxes
+nsifilespec
+descfile
+reset
+nsresult
+rv
+prbool
+isfile
+prfalse
+rv
+descfile
+isfile
+isfile
+nsfailed
+rv
+isfile
+prfalse
+rv
+descfile
+openstreamforreading
+nsfailed
+rv
+prfalse
+importlog
+reading
+the
+folders
+nch
+file
+pruint
+currec
+readlong
+descfile
+currec
+prfalse
+prbool
+done
+prfalse
+pruint
+equal
+pruint
+size
+pruint
+previous
+pruint
+next
+mailboxentry
+pentry
+prbool
+failed
+nscstring
+ext
+nscstring
+mbxext
+mbx
+done
+readlong
+descfile
+equal
+currec
+prfalse
+currec
+equal
+importlog
+record
+start
+invalid
+ld
+currec
+readlong
+descfile
+size
+currec
+prfalse
+readlong
+descfile
+previous
+currec
+prfalse
+readlong
+descfile
+next
+currec
+prfalse
+failed
+prfalse
+pentry
+mailboxentry
+readlong
+descfile
+pentry
+index
+currec
+failed
+prtrue
+readstring
+descfile
+pentry
+mailname
+currec
+failed
+prtrue
+readstring
+descfile
+pentry
+filename
+currec
+failed
+prtrue
+readlong
+descfile
+pentry
+parent
+currec
+failed
+prtrue
+readlong
+descfile
+pentry
+child
+currec
+failed
+prtrue
+readlong
+descfile
+pentry
+sibling
+currec
+failed
+prtrue
+readlong
+descfile
+pentry
+type
+currec
+failed
+prtrue
+failed
+pentry
+prfalse
+ifdef
+tracemailboxentries
+importlog
+importlog
+offset
+lx
+index
+ld
+currec
+pentry
+index
+importlog
+previous
+lx
+next
+lx
+previous
+next
+importlog
+name
+file
+prunichar
+pentry
+mailname
+pentry
+filename
+importlog
+parent
+ld
+child
+ld
+sibling
+ld
+pentry
+parent
+pentry
+child
+pentry
+sibling
+endif
+pentry
+filename
+right
+ext
+ext
+equals
+mbxext
+pentry
+filename
+append
+mbx
+mentryarray
+appendelement
+pentry
+currec
+next
+next
+done
+prtrue
+mailboxentry
+pzero
+getindexentry
+pzero
+mpfirst
+getindexentry
+pzero
+child
+importlog
+read
+the
+folders
+nch
+file
+found
+ld
+mailboxes
+mentryarray
+count
+prtrue
+prbool
+nsoescanboxes
+findmailboxes
+nsifilespec
+descfile
+reset
+nsresult
+rv
+prbool
+isfile
+prfalse
+rv
+descfile
+isfile
+isfile
+nsfailed
+rv
+isfile
+prfalse
+rv
+descfile
+openstreamforreading
+nsfailed
+rv
+prfalse
+importlog
+reading
+the
+folders
+dbx
+file
+pruint
+pindex
+pruint
+indexsize
+nsoefile
+readindex
+descfile
+pindex
+indexsize
+importlog
+not
+using
+folders
+dbx
+prfalse
+pruint
+marker
+pruint
+size
+pbytes
+print
+cntread
+print
+recordid
+print
+stroffset
+pruint
+tag
+pruint
+data
+print
+dataoffset
+pruint
+id
+pruint
+parent
+pruint
+nummessages
+pfilename
+pdatasource
+mailboxentry
+pentry
+mailboxentry
+plastentry
+nsnull
+pruint
+localstoreid
+pruint
+indexsize
+readlong
+descfile
+marker
+pindex
+marker
+pindex
+readlong
+descfile
+size
+pindex
+size
+pbytes
+size
+rv
+descfile
+read
+pbytes
+size
+cntread
+nsfailed
+rv
+pruint
+cntread
+size
+pbytes
+recordid
+pbytes
+stroffset
+recordid
+recordid
+stroffset
+id
+parent
+nummessages
+pfilename
+nsnull
+pdatasource
+nsnull
+dataoffset
+dataoffset
+stroffset
+tag
+pruint
+pbytes
+dataoffset
+data
+memcpy
+data
+pbytes
+dataoffset
+tag
+id
+data
+parent
+data
+nummessages
+data
+pruint
+stroffset
+data
+size
+pfilename
+pbytes
+stroffset
+data
+pruint
+stroffset
+data
+size
+pdatasource
+pbytes
+stroffset
+data
+dataoffset
+pdatasource
+nscrt
+strcasecmp
+pdatasource
+localstore
+localstoreid
+id
+processpendingchildentries
+localstoreid
+localstoreid
+mpendingchildarray
+removeprocessedchildentries
+id
+localstoreid
+parent
+data
+parent
+data
+data
+localstoreid
+pentry
+getindexentry
+data
+pentry
+data
+pentry
+parent
+data
+data
+localstoreid
+pentry
+newmailboxentry
+id
+parent
+pbytes
+stroffset
+pfilename
+pentry
+addchildentry
+pentry
+localstoreid
+pentry
+processed
+prtrue
+processpendingchildentries
+id
+localstoreid
+mpendingchildarray
+removeprocessedchildentries
+pentry
+newmailboxentry
+id
+parent
+pbytes
+stroffset
+pfilename
+pentry
+mpendingchildarray
+appendelement
+pentry
+pfilename
+pentry
+newmailboxentry
+id
+parent
+pbytes
+stroffset
+pfilename
+pentry
+mpendingchildarray
+appendelement
+pentry
+pbytes
+pindex
+mentryarray
+count
+prtrue
+prfalse
+nsoescanboxes
+mailboxentry
+nsoescanboxes
+newmailboxentry
+pruint
+id
+pruint
+parent
+prettyname
+pfilename
+mailboxentry
+pentry
+mailboxentry
+pentry
+nsnull
+pentry
+index
+id
+pentry
+parent
+parent
+pentry
+child
+pentry
+type
+pentry
+sibling
+pentry
+processed
+prfalse
+converttounicode
+prettyname
+pentry
+mailname
+pfilename
+pentry
+filename
+pfilename
+pentry
+nsoescanboxes
+processpendingchildentries
+pruint
+parent
+pruint
+rootindex
+nsvoidarray
+childarray
+print
+max
+mailboxentry
+pentry
+max
+childarray
+count
+max
+pentry
+mailboxentry
+childarray
+elementat
+pentry
+processed
+pentry
+parent
+parent
+addchildentry
+pentry
+rootindex
+pentry
+processed
+prtrue
+processpendingchildentries
+pentry
+index
+rootindex
+childarray
+nsoescanboxes
+removeprocessedchildentries
+mailboxentry
+pentry
+print
+mpendingchildarray
+count
+pentry
+mailboxentry
+mpendingchildarray
+elementat
+pentry
+processed
+mpendingchildarray
+removeelementat
+nsoescanboxes
+addchildentry
+mailboxentry
+pentry
+pruint
+rootindex
+mpfirst
+pentry
+parent
+rootindex
+mpfirst
+pentry
+mentryarray
+appendelement
+pentry
+pentry
+mailboxentry
+pparent
+nsnull
+mailboxentry
+psibling
+nsnull
+pentry
+parent
+rootindex
+psibling
+mpfirst
+pparent
+getindexentry
+pentry
+parent
+pparent
+psibling
+pentry
+pparent
+pparent
+child
+pparent
+child
+pentry
+index
+mentryarray
+appendelement
+pentry
+psibling
+psibling
+getindexentry
+pparent
+child
+psibling
+psibling
+sibling
+psibling
+getindexentry
+psibling
+sibling
+psibling
+pentry
+psibling
+sibling
+pentry
+index
+mentryarray
+appendelement
+pentry
+prbool
+nsoescanboxes
+scanmailboxdir
+nsifilespec
+srcdir
+reset
+mailboxentry
+pentry
+print
+index
+pleaf
+pruint
+slen
+nsifilespec
+spec
+nsidirectoryiterator
+iter
+nsfailed
+nsnewdirectoryiterator
+iter
+prfalse
+nsfailed
+iter
+init
+srcdir
+prtrue
+iter
+release
+prfalse
+nsresult
+rv
+prbool
+exists
+prfalse
+prbool
+isfile
+rv
+iter
+exists
+exists
+nssucceeded
+rv
+exists
+rv
+iter
+getcurrentspec
+spec
+nssucceeded
+rv
+isfile
+prfalse
+rv
+spec
+isfile
+isfile
+nssucceeded
+rv
+isfile
+pleaf
+nsnull
+rv
+spec
+getleafname
+pleaf
+nssucceeded
+rv
+pleaf
+slen
+strlen
+pleaf
+nscrt
+strcasecmp
+pleaf
+slen
+dbx
+nsoefile
+islocalmailfile
+spec
+pentry
+mailboxentry
+pentry
+index
+index
+index
+pentry
+parent
+pentry
+child
+pentry
+sibling
+index
+pentry
+type
+pentry
+filename
+pleaf
+pleaf
+slen
+converttounicode
+pleaf
+pentry
+mailname
+mentryarray
+appendelement
+pentry
+pleaf
+nscrt
+free
+pleaf
+rv
+iter
+next
+exists
+prfalse
+rv
+iter
+exists
+exists
+mentryarray
+count
+pentry
+mailboxentry
+mentryarray
+elementat
+mentryarray
+count
+pentry
+sibling
+prtrue
+prfalse
+nsoescanboxes
+scanmailboxdir
+nsifilespec
+srcdir
+scanmailboxdir
+srcdir
+reset
+mailboxentry
+pentry
+print
+index
+pleaf
+pruint
+slen
+nsifilespec
+spec
+nsidirectoryiterator
+iter
+nsfailed
+nsnewdirectoryiterator
+iter
+nsfailed
+iter
+init
+srcdir
+prtrue
+iter
+release
+nsresult
+rv
+prbool
+exists
+prfalse
+prbool
+isfile
+rv
+iter
+exists
+exists
+nssucceeded
+rv
+exists
+rv
+iter
+getcurrentspec
+spec
+nssucceeded
+rv
+isfile
+prfalse
+rv
+spec
+isfile
+isfile
+nssucceeded
+rv
+isfile
+pleaf
+nsnull
+rv
+spec
+getleafname
+pleaf
+nssucceeded
+rv
+pleaf
+slen
+strlen
+pleaf
+nscrt
+strcasecmp
+pleaf
+slen
+mbx
+pentry
+mailboxentry
+pentry
+index
+index
+index
+pentry
+parent
+pentry
+child
+pentry
+sibling
+index
+pentry
+type
+pentry
+filename
+pleaf
+pleaf
+slen
+converttounicode
+pleaf
+pentry
+mailname
+mentryarray
+appendelement
+pentry
+pleaf
+nscrt
+free
+pleaf
+rv
+iter
+next
+exists
+prfalse
+rv
+iter
+exists
+exists
+mentryarray
+count
+pentry
+mailboxentry
+mentryarray
+elementat
+mentryarray
+count
+pentry
+sibling
+pruint
+nsoescanboxes
+countmailboxes
+mailboxentry
+pbox
+pbox
+nsnull
+mpfirst
+nsnull
+pbox
+mpfirst
+mentryarray
+count
+pbox
+mailboxentry
+mentryarray
+elementat
+pruint
+count
+mailboxentry
+pchild
+pbox
+count
+pbox
+child
+pchild
+getindexentry
+pbox
+child
+pchild
+nsnull
+count
+countmailboxes
+pchild
+pbox
+sibling
+pbox
+getindexentry
+pbox
+sibling
+pbox
+nsnull
+count
+prbool
+nsoescanboxes
+getmailboxlist
+nsifilespec
+root
+nsisupportsarray
+parray
+nsresult
+rv
+nsnewisupportsarray
+parray
+nsfailed
+rv
+importlog
+failed
+to
+allocate
+the
+nsisupportsarray
+prfalse
+buildmailboxlist
+nsnull
+root
+parray
+prtrue
+nsoescanboxes
+buildmailboxlist
+mailboxentry
+pbox
+nsifilespec
+root
+print
+depth
+nsisupportsarray
+parray
+pbox
+nsnull
+mpfirst
+nsnull
+pbox
+mpfirst
+importlog
+assigning
+start
+of
+mailbox
+list
+to
+mpfirst
+mentryarray
+count
+pbox
+mailboxentry
+mentryarray
+elementat
+importlog
+assigning
+start
+of
+mailbox
+list
+to
+entry
+at
+index
+pbox
+nsnull
+importlog
+error
+assigning
+starting
+mailbox
+nsresult
+rv
+nsifilespec
+file
+mailboxentry
+pchild
+nsiimportmailboxdescriptor
+pid
+nsisupports
+pinterface
+pruint
+size
+nscomptr
+nsiimportservice
+impsvc
+dogetservice
+nsimportservicecontractid
+rv
+nsfailed
+rv
+pbox
+rv
+impsvc
+createnewmailboxdescriptor
+pid
+nssucceeded
+rv
+pid
+setdepth
+depth
+pid
+setidentifier
+pbox
+index
+pid
+setdisplayname
+prunichar
+pbox
+mailname
+get
+pbox
+filename
+isempty
+pid
+getfilespec
+file
+file
+fromfilespec
+root
+file
+appendrelativeunixpath
+pbox
+filename
+get
+size
+file
+getfilesize
+size
+pid
+setsize
+size
+file
+release
+rv
+pid
+queryinterface
+kisupportsiid
+pinterface
+parray
+appendelement
+pinterface
+pinterface
+release
+pid
+release
+pbox
+child
+pchild
+getindexentry
+pbox
+child
+pchild
+nsnull
+buildmailboxlist
+pchild
+root
+depth
+parray
+pbox
+sibling
+pbox
+getindexentry
+pbox
+sibling
+pbox
+nsnull
+nsoescanboxes
+mailboxentry
+nsoescanboxes
+getindexentry
+pruint
+index
+print
+max
+mentryarray
+count
+print
+max
+mailboxentry
+pentry
+mailboxentry
+mentryarray
+elementat
+pentry
+index
+index
+pentry
+nsnull
+prbool
+nsoescanboxes
+readlong
+nsifilespec
+stream
+print
+val
+pruint
+offset
+nsresult
+rv
+rv
+stream
+seek
+offset
+nsfailed
+rv
+prfalse
+print
+cntread
+preadto
+val
+rv
+stream
+read
+preadto
+val
+cntread
+nsfailed
+rv
+cntread
+val
+prfalse
+prtrue
+prbool
+nsoescanboxes
+readlong
+nsifilespec
+stream
+pruint
+val
+pruint
+offset
+nsresult
+rv
+rv
+stream
+seek
+offset
+nsfailed
+rv
+prfalse
+print
+cntread
+preadto
+val
+rv
+stream
+read
+preadto
+val
+cntread
+nsfailed
+rv
+cntread
+val
+prfalse
+prtrue
+define
+koutlookexpressstringlength
+prbool
+nsoescanboxes
+readstring
+nsifilespec
+stream
+nsstring
+str
+pruint
+offset
+nsresult
+rv
+rv
+stream
+seek
+offset
+nsfailed
+rv
+prfalse
+print
+cntread
+buffer
+koutlookexpressstringlength
+preadto
+buffer
+rv
+stream
+read
+preadto
+koutlookexpressstringlength
+cntread
+nsfailed
+rv
+cntread
+koutlookexpressstringlength
+prfalse
+buffer
+koutlookexpressstringlength
+str
+assignwithconversion
+buffer
+prtrue
+prbool
+nsoescanboxes
+readstring
+nsifilespec
+stream
+nscstring
+str
+pruint
+offset
+nsresult
+rv
+rv
+stream
+seek
+offset
+nsfailed
+rv
+prfalse
+print
+cntread
+buffer
+koutlookexpressstringlength
+preadto
+buffer
+rv
+stream
+read
+preadto
+koutlookexpressstringlength
+cntread
+nsfailed
+rv
+cntread
+koutlookexpressstringlength
+prfalse
+buffer
+koutlookexpressstringlength
+str
+buffer
+prtrue
\ No newline at end of file
@@ -0,0 +1,140 @@
+nscore
+nscrt
+nsstring
+mapimimetypes
+pruint
+cmimetypes
+mmimebuffer
+kmaxmimetypesize
+bool
+cmimetypes
+getkey
+hkey
+root
+lpctstr
+pname
+phkey
+pkey
+long
+result
+regopenkeyex
+root
+pname
+keyqueryvalue
+keyenumeratesubkeys
+pkey
+result
+errorsuccess
+bool
+cmimetypes
+getvaluebytes
+hkey
+rootkey
+lpctstr
+pvalname
+lpbyte
+ppbytes
+long
+err
+dword
+bufsz
+ppbytes
+err
+regqueryvalueex
+rootkey
+pvalname
+bufsz
+err
+errorsuccess
+ppbytes
+byte
+bufsz
+err
+regqueryvalueex
+rootkey
+pvalname
+ppbytes
+bufsz
+err
+errorsuccess
+true
+ppbytes
+ppbytes
+false
+cmimetypes
+releasevaluebytes
+lpbyte
+pbytes
+pbytes
+pbytes
+bool
+cmimetypes
+getmimetypefromreg
+nscstring
+ext
+lpbyte
+ppbytes
+hkey
+extensionkey
+bool
+result
+false
+ppbytes
+getkey
+hkeyclassesroot
+ext
+get
+extensionkey
+result
+getvaluebytes
+extensionkey
+content
+type
+ppbytes
+regclosekey
+extensionkey
+result
+pruint
+cmimetypes
+getmimetype
+nscstring
+theext
+nscstring
+ext
+theext
+ext
+length
+ext
+first
+ext
+ext
+theext
+bool
+result
+false
+len
+ext
+length
+lpbyte
+pbyte
+getmimetypefromreg
+ext
+pbyte
+len
+strlen
+pbyte
+len
+len
+kmaxmimetypesize
+memcpy
+mmimebuffer
+pbyte
+len
+mmimebuffer
+len
+result
+true
+releasevaluebytes
+pbyte
+result
+mmimebuffer
\ No newline at end of file
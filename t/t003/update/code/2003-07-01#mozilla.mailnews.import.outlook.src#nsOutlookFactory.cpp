@@ -0,0 +1,87 @@
+nscomptr
+nsimodule
+nsigenericfactory
+nsiservicemanager
+nsiimportservice
+nsoutlookimport
+nscrt
+nsicategorymanager
+nsxpidlstring
+nsoutlookstringbundle
+outlookdebuglog
+nsdefinecid
+koutlookimportcid
+nsoutlookimportcid
+nsmethod
+outlookregister
+nsicomponentmanager
+acompmgr
+nsifile
+apath
+registrylocation
+componenttype
+nsmodulecomponentinfo
+info
+nsresult
+rv
+nscomptr
+nsicategorymanager
+catman
+dogetservice
+nscategorymanagercontractid
+rv
+nssucceeded
+rv
+nsxpidlcstring
+replace
+thecid
+koutlookimportcid
+tostring
+rv
+catman
+addcategoryentry
+mailnewsimport
+thecid
+koutlooksupportsstring
+prtrue
+prtrue
+gettercopies
+replace
+nscrt
+free
+thecid
+nsfailed
+rv
+importlog
+error
+problem
+registering
+outlook
+component
+in
+the
+category
+manager
+rv
+nsgenericfactoryconstructor
+nsoutlookimport
+nsmodulecomponentinfo
+components
+outlook
+import
+component
+nsoutlookimportcid
+outlook
+nsoutlookimportconstructor
+outlookregister
+nsnull
+prstaticcallback
+outlookmoduledtor
+nsimodule
+self
+nsoutlookstringbundle
+cleanup
+nsimplnsgetmodulewithdtor
+nsoutlookimport
+components
+outlookmoduledtor
\ No newline at end of file
@@ -0,0 +1,2028 @@
+nscomptr
+nscore
+nsiservicemanager
+nsiimportservice
+nsiimportfieldmap
+nsiimportmailboxdescriptor
+nsiimportabdescriptor
+nsiimportmimeencode
+nsxpidlstring
+nsreadableutils
+nsoutlookstringbundle
+nsabbasecid
+nsiabcard
+nsaddrdatabase
+outlookdebuglog
+nsoutlookmail
+nsunicharutils
+nsmsgutils
+nsdefinecid
+kimportmimeencodecid
+nsimportmimeencodecid
+nsdefineiid
+kisupportsiid
+nsisupportsiid
+print
+mozfield
+print
+multiline
+ulong
+mapitag
+mapifields
+define
+kismultiline
+define
+knomultiline
+mapifields
+gmapifields
+kismultiline
+prcomment
+knomultiline
+prbusinesstelephonenumber
+knomultiline
+prhometelephonenumber
+knomultiline
+prcompanyname
+knomultiline
+prtitle
+knomultiline
+prcellulartelephonenumber
+knomultiline
+prpagertelephonenumber
+knomultiline
+prbusinessfaxnumber
+knomultiline
+prhomefaxnumber
+knomultiline
+prcountry
+knomultiline
+prlocality
+knomultiline
+prstateorprovince
+prstreetaddress
+knomultiline
+prpostalcode
+knomultiline
+prpersonalhomepage
+knomultiline
+prbusinesshomepage
+knomultiline
+prhomeaddresscity
+knomultiline
+prhomeaddresscountry
+knomultiline
+prhomeaddresspostalcode
+knomultiline
+prhomeaddressstateorprovince
+prhomeaddressstreet
+knomultiline
+prdepartmentname
+define
+kcopybuffersize
+define
+outlookemailmapiid
+define
+outlookemailmapiid
+define
+outlookemailmapiid
+define
+outlookemailmapiid
+define
+outlookemailmapiid
+define
+outlookemailmapiid
+nsoutlookmail
+nsoutlookmail
+mgotaddresses
+prfalse
+mgotfolders
+prfalse
+mhavemapi
+cmapiapi
+loadmapi
+mlpmdb
+nsoutlookmail
+nsoutlookmail
+emptyattachments
+nsresult
+nsoutlookmail
+getmailfolders
+nsisupportsarray
+parray
+mhavemapi
+importlog
+getmailfolders
+called
+before
+mapi
+is
+initialized
+nserrorfailure
+nsresult
+rv
+nsnewisupportsarray
+parray
+nsfailed
+rv
+importlog
+failed
+to
+allocate
+the
+nsisupportsarray
+the
+mail
+folder
+list
+rv
+nscomptr
+nsiimportservice
+impsvc
+dogetservice
+nsimportservicecontractid
+rv
+nsfailed
+rv
+rv
+mgotfolders
+prtrue
+mfolderlist
+clearall
+mmapi
+initialize
+mmapi
+logon
+mstorelist
+getsize
+mmapi
+iteratestores
+mstorelist
+cmapifolder
+pfolder
+mstorelist
+getsize
+pfolder
+mstorelist
+getitem
+cmapifolder
+pitem
+cmapifolder
+pfolder
+pitem
+setdepth
+mfolderlist
+additem
+pitem
+mmapi
+getstorefolders
+pitem
+getcbentryid
+pitem
+getentryid
+mfolderlist
+importlog
+getstorefolders
+index
+failed
+pfolder
+mstorelist
+getitem
+mmapi
+getstorefolders
+pfolder
+getcbentryid
+pfolder
+getentryid
+mfolderlist
+importlog
+getstorefolders
+index
+failed
+nsiimportmailboxdescriptor
+pid
+nsisupports
+pinterface
+nsstring
+name
+nsstring
+uniname
+mfolderlist
+getsize
+pfolder
+mfolderlist
+getitem
+rv
+impsvc
+createnewmailboxdescriptor
+pid
+nssucceeded
+rv
+pid
+setdepth
+pfolder
+getdepth
+pid
+setidentifier
+pfolder
+getdisplayname
+name
+pid
+setdisplayname
+name
+get
+pid
+setsize
+rv
+pid
+queryinterface
+kisupportsiid
+pinterface
+parray
+appendelement
+pinterface
+pinterface
+release
+pid
+release
+nsok
+prbool
+nsoutlookmail
+isaddressbooknameunique
+nsstring
+name
+nsstring
+list
+nsstring
+usedname
+usedname
+append
+nsliteralstring
+usedname
+append
+name
+usedname
+append
+nsliteralstring
+list
+find
+usedname
+nsoutlookmail
+makeaddressbooknameunique
+nsstring
+name
+nsstring
+list
+nsstring
+newname
+idx
+newname
+name
+isaddressbooknameunique
+newname
+list
+newname
+name
+newname
+append
+prunichar
+newname
+appendint
+print
+idx
+idx
+name
+newname
+list
+append
+nsliteralstring
+list
+append
+name
+list
+append
+nsliteralstring
+nsresult
+nsoutlookmail
+getaddressbooks
+nsisupportsarray
+parray
+mhavemapi
+importlog
+getaddressbooks
+called
+before
+mapi
+is
+initialized
+nserrorfailure
+nsresult
+rv
+nsnewisupportsarray
+parray
+nsfailed
+rv
+importlog
+failed
+to
+allocate
+the
+nsisupportsarray
+the
+address
+book
+list
+rv
+nscomptr
+nsiimportservice
+impsvc
+dogetservice
+nsimportservicecontractid
+rv
+nsfailed
+rv
+rv
+mgotaddresses
+prtrue
+maddresslist
+clearall
+mmapi
+initialize
+mmapi
+logon
+mstorelist
+getsize
+mmapi
+iteratestores
+mstorelist
+cmapifolder
+pfolder
+mstorelist
+getsize
+pfolder
+mstorelist
+getitem
+cmapifolder
+pitem
+cmapifolder
+pfolder
+pitem
+setdepth
+maddresslist
+additem
+pitem
+mmapi
+getstoreaddressfolders
+pitem
+getcbentryid
+pitem
+getentryid
+maddresslist
+importlog
+getstoreaddressfolders
+index
+failed
+pfolder
+mstorelist
+getitem
+mmapi
+getstoreaddressfolders
+pfolder
+getcbentryid
+pfolder
+getentryid
+maddresslist
+importlog
+getstorefolders
+index
+failed
+nsiimportabdescriptor
+pid
+nsisupports
+pinterface
+nsstring
+name
+nsstring
+list
+maddresslist
+getsize
+pfolder
+maddresslist
+getitem
+pfolder
+isstore
+rv
+impsvc
+createnewabdescriptor
+pid
+nssucceeded
+rv
+pid
+setidentifier
+pfolder
+getdisplayname
+name
+makeaddressbooknameunique
+name
+list
+pid
+setpreferredname
+name
+get
+pid
+setsize
+rv
+pid
+queryinterface
+kisupportsiid
+pinterface
+parray
+appendelement
+pinterface
+pinterface
+release
+pid
+release
+nsok
+nsoutlookmail
+openmessagestore
+cmapifolder
+pnextfolder
+pnextfolder
+isstore
+mmapi
+openstore
+pnextfolder
+getcbentryid
+pnextfolder
+getentryid
+mlpmdb
+mlpmdb
+importlog
+cmapiapi
+openstore
+failed
+mlpmdb
+mstorelist
+getsize
+cmapifolder
+pfolder
+mstorelist
+getitem
+pfolder
+mmapi
+openstore
+pfolder
+getcbentryid
+pfolder
+getentryid
+mlpmdb
+mlpmdb
+importlog
+cmapiapi
+openstore
+failed
+importlog
+error
+retrieving
+the
+one
+only
+message
+store
+importlog
+error
+importing
+folder
+without
+valid
+message
+store
+nsoutlookmail
+setdefaultcontenttype
+cmapimessage
+msg
+nscstring
+ctype
+ctype
+truncate
+msg
+getmimecontentlen
+nscrt
+strcasecmp
+msg
+getmimecontent
+multipart
+alternative
+body
+msg
+getbody
+boundary
+msg
+getmimeboundary
+body
+boundary
+strstr
+body
+boundary
+ctype
+msg
+bodyishtml
+text
+html
+text
+plain
+nsresult
+nsoutlookmail
+importmailbox
+pruint
+pdonesofar
+prbool
+pabort
+print
+index
+prunichar
+pname
+nsifilespec
+pdest
+print
+pmsgcount
+index
+index
+mfolderlist
+getsize
+importlog
+bad
+mailbox
+identifier
+unable
+to
+pabort
+prtrue
+nserrorfailure
+print
+dummymsgcount
+pmsgcount
+pmsgcount
+pmsgcount
+dummymsgcount
+cmapifolder
+pfolder
+mfolderlist
+getitem
+index
+openmessagestore
+pfolder
+mlpmdb
+importlog
+unable
+to
+obtain
+mapi
+message
+store
+mailbox
+pname
+nserrorfailure
+pfolder
+isstore
+nsok
+nscomptr
+nsifilespec
+compositionfile
+nsresult
+rv
+nsfailed
+rv
+nsnewfilespec
+getteraddrefs
+compositionfile
+rv
+nsoutlookcompose
+compose
+simplebuffertonyrcopiedtwice
+copy
+copy
+allocate
+kcopybuffersize
+cmapifoldercontents
+contents
+mlpmdb
+pfolder
+getcbentryid
+pfolder
+getentryid
+bool
+done
+false
+ulong
+cbeid
+lpentryid
+lpeid
+ulong
+otype
+lpmessage
+lpmsg
+nsnull
+attachcount
+ulong
+totalcount
+prfloat
+donecalc
+nscstring
+fromline
+fromlen
+prbool
+lostattach
+prfalse
+done
+contents
+getnext
+cbeid
+lpeid
+otype
+done
+importlog
+error
+iterating
+mailbox
+pname
+nserrorfailure
+totalcount
+contents
+getcount
+donecalc
+pmsgcount
+donecalc
+totalcount
+donecalc
+pdonesofar
+pdonesofar
+pruint
+donecalc
+pdonesofar
+pdonesofar
+done
+otype
+mapimessage
+mmapi
+openmdbentry
+mlpmdb
+cbeid
+lpeid
+lpunknown
+lpmsg
+importlog
+error
+opening
+messages
+in
+mailbox
+pname
+nserrorfailure
+cmapimessage
+msg
+lpmsg
+bool
+bresult
+msg
+fetchheaders
+bresult
+bresult
+msg
+fetchbody
+bresult
+fromline
+msg
+getfromline
+fromlen
+attachcount
+msg
+countattachments
+buildattachments
+msg
+attachcount
+bresult
+importlog
+error
+reading
+message
+from
+mailbox
+pname
+nserrorfailure
+compose
+setbody
+msg
+getbody
+compose
+setheaders
+nscomptr
+nsiimportservice
+impsvc
+dogetservice
+nsimportservicecontractid
+nsassertion
+nssucceeded
+rv
+failed
+to
+get
+service
+nssucceeded
+rv
+nsautostring
+newheader
+nscautostring
+tempcstr
+msg
+getheaders
+msg
+getheaderlen
+rv
+impsvc
+systemstringtounicode
+tempcstr
+get
+newheader
+nsassertion
+nssucceeded
+rv
+failed
+to
+convert
+headers
+to
+utf
+nssucceeded
+rv
+compose
+setheaders
+nsconvertucstoutf
+newheader
+get
+compose
+setattachments
+mattachments
+nsautostring
+foldername
+pname
+nsmsgdelivermode
+mode
+nsimsgsend
+nsmsgdelivernow
+mode
+nsimsgsend
+nsmsgsaveasdraft
+foldername
+equals
+nsliteralstring
+drafts
+nscaseinsensitivestringcomparator
+mode
+nsimsgsend
+nsmsgsaveasdraft
+msg
+getheaderlen
+nscautostring
+ctype
+setdefaultcontenttype
+msg
+ctype
+rv
+compose
+sendthemessage
+compositionfile
+mode
+ctype
+nssucceeded
+rv
+rv
+compose
+copycomposedmessage
+fromline
+compositionfile
+pdest
+copy
+deletefile
+compositionfile
+nsfailed
+rv
+importlog
+error
+copying
+composed
+message
+to
+destination
+mailbox
+rv
+pmsgcount
+rv
+nsok
+nsfailed
+rv
+importlog
+message
+failed
+pmsgcount
+dumpattachments
+attachcount
+lostattach
+prtrue
+attachcount
+bool
+needsterminate
+false
+writemessage
+pdest
+msg
+attachcount
+needsterminate
+importlog
+error
+writing
+message
+pabort
+prtrue
+nserrorfailure
+needsterminate
+writemimeboundary
+pdest
+msg
+true
+importlog
+error
+writing
+message
+mime
+boundary
+pabort
+prtrue
+nserrorfailure
+endif
+writedata
+pdest
+xd
+xa
+nsok
+bool
+nsoutlookmail
+writemessage
+nsifilespec
+pdest
+cmapimessage
+pmsg
+attachcount
+bool
+pterminate
+bool
+bresult
+true
+pdata
+len
+bool
+checkstart
+false
+pterminate
+false
+pdata
+pmsg
+getfromline
+len
+pdata
+bresult
+writedata
+pdest
+pdata
+len
+checkstart
+true
+pdata
+pmsg
+getheaders
+len
+pdata
+len
+checkstart
+bresult
+escapefromspaceline
+pdest
+pdata
+pdata
+len
+nsok
+bresult
+escapefromspaceline
+pdest
+pdata
+pdata
+len
+nsok
+bool
+needsmimeheaders
+pmsg
+ismultipart
+needsmimeheaders
+attachcount
+pmsg
+hascontentheader
+attachcount
+bresult
+bresult
+writemimemsgheader
+pdest
+pmsg
+needsmimeheaders
+true
+bresult
+bresult
+writestr
+pdest
+xd
+xa
+needsmimeheaders
+bresult
+bresult
+writestr
+pdest
+this
+is
+mime
+formatted
+message
+xd
+xa
+bresult
+bresult
+writestr
+pdest
+xd
+xa
+bresult
+bresult
+writemimeboundary
+pdest
+pmsg
+false
+pmsg
+bodyishtml
+bresult
+bresult
+writestr
+pdest
+content
+type
+text
+html
+xd
+xa
+bresult
+bresult
+writestr
+pdest
+content
+type
+text
+plain
+xd
+xa
+bresult
+bresult
+writestr
+pdest
+xd
+xa
+pdata
+pmsg
+getbody
+len
+pdata
+len
+bresult
+bresult
+escapefromspaceline
+pdest
+pdata
+pdata
+len
+nsok
+len
+pdata
+len
+xa
+pdata
+len
+xd
+bresult
+writestr
+pdest
+xd
+xa
+pterminate
+needsmimeheaders
+bresult
+bool
+nsoutlookmail
+writedata
+nsifilespec
+pdest
+pdata
+print
+len
+print
+written
+nsresult
+rv
+pdest
+write
+pdata
+len
+written
+nsfailed
+rv
+written
+len
+false
+true
+bool
+nsoutlookmail
+writestr
+nsifilespec
+pdest
+pstr
+print
+written
+print
+len
+strlen
+pstr
+nsresult
+rv
+pdest
+write
+pstr
+len
+written
+nsfailed
+rv
+written
+len
+false
+true
+bool
+nsoutlookmail
+writemimemsgheader
+nsifilespec
+pdest
+cmapimessage
+pmsg
+bool
+bresult
+true
+pmsg
+hasmimeversion
+bresult
+writestr
+pdest
+mime
+version
+xd
+xa
+pmsg
+generateboundary
+bresult
+bresult
+writestr
+pdest
+content
+type
+multipart
+mixed
+boundary
+bresult
+bresult
+writestr
+pdest
+pmsg
+getmimeboundary
+bresult
+bresult
+writestr
+pdest
+xd
+xa
+bresult
+bool
+nsoutlookmail
+writemimeboundary
+nsifilespec
+pdest
+cmapimessage
+pmsg
+bool
+terminate
+bool
+bresult
+writestr
+pdest
+bresult
+bresult
+writestr
+pdest
+pmsg
+getmimeboundary
+terminate
+bresult
+bresult
+writestr
+pdest
+bresult
+bresult
+writestr
+pdest
+xd
+xa
+bresult
+nsresult
+nsoutlookmail
+deletefile
+nsifilespec
+pspec
+prbool
+result
+nsresult
+rv
+nsok
+result
+prfalse
+pspec
+isstreamopen
+result
+result
+pspec
+closestream
+result
+prfalse
+pspec
+exists
+result
+result
+result
+prfalse
+pspec
+isfile
+result
+result
+nsfilespec
+spec
+rv
+pspec
+getfilespec
+spec
+nssucceeded
+rv
+spec
+delete
+prfalse
+rv
+nsoutlookmail
+emptyattachments
+prbool
+exists
+prbool
+isfile
+print
+max
+mattachments
+count
+outlookattachment
+pattach
+print
+max
+pattach
+outlookattachment
+mattachments
+elementat
+pattach
+pattach
+pattachment
+exists
+prfalse
+isfile
+prfalse
+pattach
+pattachment
+exists
+exists
+exists
+pattach
+pattachment
+isfile
+isfile
+exists
+isfile
+deletefile
+pattach
+pattachment
+nsrelease
+pattach
+pattachment
+nscrt
+free
+pattach
+description
+nscrt
+free
+pattach
+mimetype
+pattach
+mattachments
+clear
+nsoutlookmail
+buildattachments
+cmapimessage
+msg
+count
+emptyattachments
+count
+nsifilespec
+pspec
+nsresult
+rv
+count
+msg
+getattachmentinfo
+importlog
+error
+getting
+attachment
+info
+pspec
+nsnull
+rv
+nsnewfilespec
+pspec
+nsfailed
+rv
+pspec
+importlog
+error
+creating
+file
+spec
+attachment
+msg
+getattachfileloc
+pspec
+prbool
+isfile
+prfalse
+prbool
+exists
+prfalse
+pspec
+exists
+exists
+pspec
+isfile
+isfile
+exists
+isfile
+importlog
+attachment
+file
+does
+exist
+nsrelease
+pspec
+outlookattachment
+outlookattachment
+mimetype
+nscrt
+strdup
+msg
+getmimetype
+description
+nsnull
+filename
+msg
+getfilename
+filename
+filename
+nscomptr
+nsiimportservice
+impsvc
+dogetservice
+nsimportservicecontractid
+nsassertion
+nssucceeded
+rv
+failed
+to
+get
+service
+nssucceeded
+rv
+nsautostring
+description
+rv
+impsvc
+systemstringtounicode
+msg
+getfilename
+description
+nsassertion
+nssucceeded
+rv
+failed
+to
+convert
+system
+to
+unicode
+nssucceeded
+rv
+description
+tonewutfstring
+description
+description
+nscautostring
+str
+attachment
+str
+appendint
+print
+description
+tonewcstring
+str
+pattachment
+pspec
+mattachments
+appendelement
+nsrelease
+pspec
+nsoutlookmail
+dumpattachments
+ifdef
+importdebug
+print
+count
+count
+mattachments
+count
+count
+importlog
+no
+attachments
+importlog
+attachments
+count
+outlookattachment
+pattach
+print
+count
+importlog
+tattachment
+pattach
+outlookattachment
+mattachments
+elementat
+pattach
+mimetype
+importlog
+tmime
+type
+pattach
+mimetype
+pattach
+description
+importlog
+tdescription
+pattach
+description
+pattach
+pattachment
+nsxpidlcstring
+path
+pattach
+pattachment
+getnativepath
+gettercopies
+path
+importlog
+tfile
+path
+endif
+nsresult
+nsoutlookmail
+importaddresses
+pruint
+pcount
+pruint
+ptotal
+prunichar
+pname
+pruint
+id
+nsiaddrdatabase
+pdb
+nsstring
+errors
+id
+pruint
+maddresslist
+getsize
+importlog
+bad
+address
+identifier
+unable
+to
+nserrorfailure
+pruint
+dummycount
+pcount
+pcount
+pcount
+dummycount
+cmapifolder
+pfolder
+id
+print
+idx
+print
+id
+idx
+idx
+pfolder
+maddresslist
+getitem
+idx
+pfolder
+isstore
+openmessagestore
+pfolder
+idx
+pfolder
+maddresslist
+getitem
+id
+openmessagestore
+pfolder
+mlpmdb
+importlog
+unable
+to
+obtain
+mapi
+message
+store
+address
+book
+pname
+nserrorfailure
+pfolder
+isstore
+nsok
+nsresult
+rv
+nscomptr
+nsiimportfieldmap
+pfieldmap
+nscomptr
+nsiimportservice
+impsvc
+dogetservice
+nsimportservicecontractid
+rv
+nssucceeded
+rv
+rv
+impsvc
+createnewfieldmap
+getteraddrefs
+pfieldmap
+cmapifoldercontents
+contents
+mlpmdb
+pfolder
+getcbentryid
+pfolder
+getentryid
+bool
+done
+false
+ulong
+cbeid
+lpentryid
+lpeid
+ulong
+otype
+lpmessage
+lpmsg
+nscstring
+type
+lpspropvalue
+pval
+nsstring
+subject
+done
+pcount
+contents
+getnext
+cbeid
+lpeid
+otype
+done
+importlog
+error
+iterating
+address
+book
+pname
+nserrorfailure
+ptotal
+ptotal
+ptotal
+contents
+getcount
+done
+otype
+mapimessage
+mmapi
+openmdbentry
+mlpmdb
+cbeid
+lpeid
+lpunknown
+lpmsg
+importlog
+error
+opening
+messages
+in
+mailbox
+pname
+nserrorfailure
+pval
+mmapi
+getmapiproperty
+lpmsg
+prmessageclass
+pval
+type
+truncate
+mmapi
+getstringfromprop
+pval
+type
+type
+equals
+nsliteralcstring
+ipm
+contact
+subject
+truncate
+pval
+mmapi
+getmapiproperty
+lpmsg
+prsubject
+pval
+mmapi
+getstringfromprop
+pval
+subject
+nsimdbrow
+newrow
+nsnull
+pdb
+getnewrow
+newrow
+newrow
+buildcard
+subject
+get
+pdb
+newrow
+lpmsg
+pfieldmap
+pdb
+addcardrowtodb
+newrow
+type
+equals
+nsliteralcstring
+ipm
+distlist
+subject
+truncate
+pval
+mmapi
+getmapiproperty
+lpmsg
+prsubject
+pval
+mmapi
+getstringfromprop
+pval
+subject
+createlist
+subject
+get
+pdb
+lpmsg
+release
+rv
+pdb
+commit
+nsaddrdbcommittype
+klargecommit
+rv
+nsresult
+nsoutlookmail
+createlist
+prunichar
+pname
+nsiaddrdatabase
+pdb
+pname
+pname
+nsok
+nsresult
+rv
+nserrorfailure
+pdb
+rv
+nscomptr
+nsimdbrow
+newrow
+rv
+pdb
+getnewlistrow
+getteraddrefs
+newrow
+nsensuresuccess
+rv
+rv
+rv
+pdb
+addlistname
+newrow
+nsconvertucstoutf
+pname
+get
+nsensuresuccess
+rv
+rv
+rv
+pdb
+addcardrowtodb
+newrow
+nsensuresuccess
+rv
+rv
+rv
+pdb
+addlistdirnode
+newrow
+rv
+nsoutlookmail
+sanitizevalue
+nsstring
+val
+val
+replacesubstring
+nsliteralstring
+xd
+xa
+get
+nsliteralstring
+get
+val
+replacechar
+val
+replacechar
+nsoutlookmail
+splitstring
+nsstring
+val
+nsstring
+val
+nsstring
+temp
+print
+idx
+val
+rfind
+xd
+xa
+print
+cnt
+idx
+cnt
+idx
+val
+rfindchar
+idx
+idx
+val
+rfindchar
+idx
+val
+right
+val
+val
+length
+idx
+cnt
+val
+left
+temp
+idx
+val
+temp
+sanitizevalue
+val
+prbool
+nsoutlookmail
+buildcard
+prunichar
+pname
+nsiaddrdatabase
+pdb
+nsimdbrow
+newrow
+lpmapiprop
+puser
+nsiimportfieldmap
+pfieldmap
+nsstring
+lastname
+nsstring
+firstname
+nsstring
+email
+nsstring
+nickname
+nsstring
+middlename
+nsstring
+secondemail
+ulong
+emailtag
+lpspropvalue
+pprop
+mmapi
+getmapiproperty
+puser
+premailaddress
+pprop
+emailtag
+mmapi
+getemailpropertytag
+puser
+outlookemailmapiid
+emailtag
+pprop
+mmapi
+getmapiproperty
+puser
+emailtag
+pprop
+mmapi
+getstringfromprop
+pprop
+email
+sanitizevalue
+email
+emailtag
+mmapi
+getemailpropertytag
+puser
+outlookemailmapiid
+emailtag
+pprop
+mmapi
+getmapiproperty
+puser
+emailtag
+pprop
+mmapi
+getstringfromprop
+pprop
+secondemail
+sanitizevalue
+secondemail
+pprop
+mmapi
+getmapiproperty
+puser
+prgivenname
+pprop
+mmapi
+getstringfromprop
+pprop
+firstname
+sanitizevalue
+firstname
+pprop
+mmapi
+getmapiproperty
+puser
+prsurname
+pprop
+mmapi
+getstringfromprop
+pprop
+lastname
+sanitizevalue
+lastname
+pprop
+mmapi
+getmapiproperty
+puser
+prmiddlename
+pprop
+mmapi
+getstringfromprop
+pprop
+middlename
+sanitizevalue
+middlename
+pprop
+mmapi
+getmapiproperty
+puser
+prnickname
+pprop
+mmapi
+getstringfromprop
+pprop
+nickname
+sanitizevalue
+nickname
+firstname
+isempty
+lastname
+isempty
+firstname
+pname
+nsstring
+displayname
+pprop
+mmapi
+getmapiproperty
+puser
+prdisplayname
+pprop
+mmapi
+getstringfromprop
+pprop
+displayname
+sanitizevalue
+displayname
+displayname
+isempty
+firstname
+isempty
+displayname
+pname
+displayname
+firstname
+middlename
+isempty
+displayname
+append
+prunichar
+displayname
+append
+middlename
+lastname
+isempty
+displayname
+append
+prunichar
+displayname
+append
+lastname
+displayname
+isempty
+pdb
+adddisplayname
+newrow
+nsconvertucstoutf
+displayname
+get
+firstname
+isempty
+pdb
+addfirstname
+newrow
+nsconvertucstoutf
+firstname
+get
+lastname
+isempty
+pdb
+addlastname
+newrow
+nsconvertucstoutf
+lastname
+get
+nickname
+isempty
+pdb
+addnickname
+newrow
+nsconvertucstoutf
+nickname
+get
+email
+isempty
+pdb
+addprimaryemail
+newrow
+nsconvertucstoutf
+email
+get
+secondemail
+isempty
+pdb
+addndemail
+newrow
+nsconvertucstoutf
+secondemail
+get
+nsstring
+value
+nsstring
+line
+pfieldmap
+max
+gmapifields
+mapifields
+max
+pprop
+mmapi
+getmapiproperty
+puser
+gmapifields
+mapitag
+pprop
+mmapi
+getstringfromprop
+pprop
+value
+value
+isempty
+gmapifields
+multiline
+knomultiline
+sanitizevalue
+value
+pfieldmap
+setfieldvalue
+pdb
+newrow
+gmapifields
+mozfield
+value
+get
+gmapifields
+multiline
+kismultiline
+pfieldmap
+setfieldvalue
+pdb
+newrow
+gmapifields
+mozfield
+value
+get
+line
+truncate
+splitstring
+value
+line
+value
+isempty
+pfieldmap
+setfieldvalue
+pdb
+newrow
+gmapifields
+mozfield
+value
+get
+line
+isempty
+pfieldmap
+setfieldvalue
+pdb
+newrow
+gmapifields
+multiline
+line
+get
+prtrue
\ No newline at end of file
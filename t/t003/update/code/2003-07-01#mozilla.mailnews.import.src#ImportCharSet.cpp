@@ -0,0 +1,123 @@
+importcharset
+importcharset
+muppercasemap
+importcharset
+mascii
+uinitmaps
+uinitmaps
+uinitmaps
+ginitmaps
+uinitmaps
+uinitmaps
+importcharset
+muppercasemap
+importcharset
+muppercasemap
+importcharset
+mascii
+importcharset
+cupperachar
+importcharset
+cupperzchar
+importcharset
+mascii
+importcharset
+calphanumchar
+importcharset
+calphachar
+importcharset
+clowerachar
+importcharset
+clowerzchar
+importcharset
+mascii
+importcharset
+calphanumchar
+importcharset
+calphachar
+importcharset
+czerochar
+importcharset
+cninechar
+importcharset
+mascii
+importcharset
+calphanumchar
+importcharset
+cdigitchar
+importcharset
+mascii
+importcharset
+ctabchar
+importcharset
+cwhitespacechar
+importcharset
+mascii
+importcharset
+ccrchar
+importcharset
+cwhitespacechar
+importcharset
+mascii
+importcharset
+clinefeedchar
+importcharset
+cwhitespacechar
+importcharset
+mascii
+importcharset
+cspacechar
+importcharset
+cwhitespacechar
+importcharset
+mascii
+importcharset
+cspecialchar
+importcharset
+mascii
+importcharset
+cspecialchar
+importcharset
+mascii
+importcharset
+cspecialchar
+importcharset
+mascii
+importcharset
+cspecialchar
+importcharset
+mascii
+importcharset
+cspecialchar
+importcharset
+mascii
+importcharset
+cspecialchar
+importcharset
+mascii
+importcharset
+cspecialchar
+importcharset
+mascii
+importcharset
+cspecialchar
+importcharset
+mascii
+importcharset
+cspecialchar
+importcharset
+mascii
+importcharset
+cspecialchar
+importcharset
+mascii
+importcharset
+cspecialchar
+importcharset
+mascii
+importcharset
+cspecialchar
+importcharset
+mascii
+importcharset
+cspecialchar
\ No newline at end of file
@@ -0,0 +1,386 @@
+nscore
+nsstring
+nscrt
+importoutfile
+importcharset
+importdebug
+importoutfile
+importoutfile
+mownsfileandbuffer
+prfalse
+mpos
+mpbuf
+nsnull
+mbufsz
+mpfile
+nsnull
+mptrans
+nsnull
+mptransout
+nsnull
+mptransbuf
+nsnull
+importoutfile
+importoutfile
+nsifilespec
+pspec
+pruint
+pbuf
+pruint
+sz
+mptransbuf
+nsnull
+mptransout
+nsnull
+mptrans
+nsnull
+mownsfileandbuffer
+prfalse
+initoutfile
+pspec
+pbuf
+sz
+importoutfile
+importoutfile
+mownsfileandbuffer
+flush
+mpbuf
+mpbuf
+nsifrelease
+mpfile
+mptrans
+mptrans
+mptransout
+mptransout
+mptransbuf
+mptransbuf
+prbool
+importoutfile
+setbittranslator
+nsimporttranslator
+ptrans
+flush
+prfalse
+mengaged
+prfalse
+mptrans
+ptrans
+msupportsto
+ptrans
+supportsbitencoding
+prtrue
+prbool
+importoutfile
+endbittranslation
+prbool
+pengaged
+nscstring
+usecharset
+nscstring
+encoding
+mptrans
+prfalse
+prbool
+bresult
+flush
+msupportsto
+mptransout
+bresult
+bresult
+mptrans
+finishconverttofile
+mptransout
+bresult
+bresult
+flush
+msupportsto
+mptrans
+getcharset
+usecharset
+mptrans
+getencoding
+encoding
+usecharset
+truncate
+pengaged
+mengaged
+mptrans
+mptrans
+nsnull
+mptransout
+mptransout
+mptransout
+nsnull
+mptransbuf
+mptransbuf
+mptransbuf
+nsnull
+bresult
+prbool
+importoutfile
+initoutfile
+nsifilespec
+pspec
+pruint
+bufsz
+bufsz
+bufsz
+mpbuf
+mpbuf
+pruint
+bufsz
+prbool
+open
+prfalse
+nsresult
+rv
+pspec
+isstreamopen
+open
+nsfailed
+rv
+open
+rv
+pspec
+openstreamforwriting
+nsfailed
+rv
+importlog
+couldn
+create
+outfile
+mpbuf
+mpbuf
+nsnull
+prfalse
+mpfile
+pspec
+nsaddref
+mpfile
+mownsfileandbuffer
+prtrue
+mpos
+mbufsz
+bufsz
+prtrue
+importoutfile
+initoutfile
+nsifilespec
+pspec
+pruint
+pbuf
+pruint
+sz
+mownsfileandbuffer
+prfalse
+mpfile
+pspec
+nsifaddref
+mpfile
+mpbuf
+pbuf
+mbufsz
+sz
+mpos
+prbool
+importoutfile
+flush
+mpos
+prtrue
+pruint
+translen
+prbool
+duddleydowrite
+prfalse
+mptrans
+mengaged
+msupportsto
+mptrans
+converttofile
+mpbuf
+mpos
+mptransout
+translen
+prfalse
+mptransout
+flush
+prfalse
+translen
+mpos
+memcpy
+mpbuf
+mpbuf
+translen
+mpos
+translen
+mpos
+translen
+mengaged
+duddleydowrite
+prtrue
+pruint
+pchar
+mpbuf
+pruint
+len
+mpos
+len
+importcharset
+isusascii
+pchar
+pchar
+len
+len
+mengaged
+prtrue
+msupportsto
+mptransbuf
+pruint
+mbufsz
+mptransout
+importoutfile
+mpfile
+mptransbuf
+mbufsz
+flush
+duddleydowrite
+prtrue
+duddleydowrite
+prtrue
+duddleydowrite
+prtrue
+duddleydowrite
+print
+written
+nsresult
+rv
+mpfile
+write
+mpbuf
+print
+mpos
+written
+nsfailed
+rv
+pruint
+written
+mpos
+prfalse
+mpos
+prtrue
+prbool
+importoutfile
+writeunullterm
+pruint
+psrc
+prbool
+includenull
+psrc
+mpos
+mbufsz
+flush
+prfalse
+mpbuf
+mpos
+psrc
+mpos
+psrc
+includenull
+mpos
+mbufsz
+flush
+prfalse
+mpbuf
+mpos
+mpos
+prtrue
+prbool
+importoutfile
+setmarker
+markerid
+flush
+prfalse
+markerid
+kmaxmarkers
+print
+pos
+nsresult
+rv
+mpfile
+rv
+mpfile
+tell
+pos
+nsfailed
+rv
+importlog
+error
+tell
+failed
+on
+output
+stream
+prfalse
+mmarkers
+markerid
+pruint
+pos
+mpos
+prtrue
+importoutfile
+clearmarker
+markerid
+markerid
+kmaxmarkers
+mmarkers
+markerid
+prbool
+importoutfile
+writestratmarker
+markerid
+pstr
+markerid
+kmaxmarkers
+prfalse
+flush
+prfalse
+nsresult
+rv
+print
+pos
+rv
+mpfile
+tell
+pos
+nsfailed
+rv
+prfalse
+rv
+mpfile
+seek
+print
+mmarkers
+markerid
+nsfailed
+rv
+prfalse
+print
+written
+rv
+mpfile
+write
+pstr
+strlen
+pstr
+written
+nsfailed
+rv
+prfalse
+rv
+mpfile
+seek
+pos
+nsfailed
+rv
+prfalse
+prtrue
\ No newline at end of file
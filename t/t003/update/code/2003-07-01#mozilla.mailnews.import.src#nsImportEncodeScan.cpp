@@ -0,0 +1,522 @@
+nscore
+nscrt
+nsimportencodescan
+define
+kbeginapplesingle
+define
+kbegindatafork
+define
+kbeginresourcefork
+define
+kaddentries
+define
+kscanningdatafork
+define
+kscanningrsrcfork
+define
+kdonewithfile
+pruint
+gapplesingleheader
+define
+kapplesingleheadersize
+pruint
+ifdef
+macimportcode
+morefilesextras
+moredesktopmgr
+cinfopbrec
+gcatinfopb
+gsecs
+ggmtdelta
+getgmtdelta
+getsecs
+getgmtdelta
+machinelocation
+mylocation
+readlocation
+mylocation
+mydelta
+bitand
+mylocation
+gmtdelta
+xffffff
+bittst
+mydelta
+mydelta
+bitor
+mydelta
+xff
+mydelta
+getsecs
+datetimerec
+dr
+dr
+year
+dr
+month
+dr
+day
+dr
+hour
+dr
+minute
+dr
+second
+dr
+dayofweek
+result
+datetoseconds
+dr
+result
+result
+endif
+nsimportencodescan
+nsimportencodescan
+mpfile
+nsnull
+misapplesingle
+prfalse
+mencodescanstate
+mresourceforksize
+mdataforksize
+mpinputfile
+nsnull
+nsimportencodescan
+nsimportencodescan
+nsifrelease
+mpinputfile
+prbool
+nsimportencodescan
+initencodescan
+prbool
+applesingleencode
+nsifilespec
+fileloc
+pname
+pruint
+pbuf
+pruint
+sz
+cleanupencodescan
+misapplesingle
+applesingleencode
+mencodescanstate
+kbeginapplesingle
+mpinputfile
+fileloc
+nsifaddref
+mpinputfile
+musefilename
+pname
+mpbuf
+pbuf
+mbufsz
+sz
+misapplesingle
+prbool
+open
+prfalse
+nsresult
+rv
+mpinputfile
+isstreamopen
+open
+nsfailed
+rv
+open
+rv
+mpinputfile
+openstreamforreading
+nsfailed
+rv
+prfalse
+initscan
+mpinputfile
+pbuf
+sz
+ifdef
+macimportcode
+mresourceforksize
+fileloc
+getmacfilesize
+ufilelocation
+eresourcefork
+mdataforksize
+fileloc
+getmacfilesize
+ufilelocation
+edatafork
+endif
+prtrue
+nsimportencodescan
+cleanupencodescan
+nsifrelease
+mpinputfile
+mpinputfile
+nsnull
+nsimportencodescan
+fillinentries
+numentries
+ifdef
+macimportcode
+len
+musefilename
+getlength
+len
+len
+entry
+fileoffset
+numentries
+entry
+entry
+fileoffset
+entry
+musefilename
+getlength
+fileoffset
+len
+memcpy
+mpbuf
+mbytesinbuf
+entry
+mbytesinbuf
+str
+comment
+comment
+oserr
+err
+fspdtgetcomment
+minputfileloc
+comment
+comment
+comment
+entry
+entry
+fileoffset
+entry
+comment
+fileoffset
+memcpy
+mpbuf
+mbytesinbuf
+entry
+mbytesinbuf
+entry
+entry
+fileoffset
+entry
+fileoffset
+memcpy
+mpbuf
+mbytesinbuf
+entry
+mbytesinbuf
+entry
+entry
+fileoffset
+entry
+fileoffset
+memcpy
+mpbuf
+mbytesinbuf
+entry
+mbytesinbuf
+entry
+entry
+fileoffset
+entry
+fileoffset
+memcpy
+mpbuf
+mbytesinbuf
+entry
+mbytesinbuf
+mresourceforksize
+entry
+entry
+fileoffset
+entry
+mresourceforksize
+fileoffset
+mresourceforksize
+memcpy
+mpbuf
+mbytesinbuf
+entry
+mbytesinbuf
+mdataforksize
+entry
+entry
+fileoffset
+entry
+mdataforksize
+fileoffset
+mdataforksize
+memcpy
+mpbuf
+mbytesinbuf
+entry
+mbytesinbuf
+endif
+prbool
+nsimportencodescan
+addentries
+ifdef
+macimportcode
+gsecs
+gsecs
+getsecs
+ggmtdelta
+getgmtdelta
+memcpy
+mpbuf
+mbytesinbuf
+pcs
+musefilename
+musefilename
+getlength
+mbytesinbuf
+musefilename
+getlength
+musefilename
+getlength
+len
+musefilename
+getlength
+len
+ps
+mpbuf
+mbytesinbuf
+mbytesinbuf
+len
+str
+comment
+comment
+oserr
+err
+fspdtgetcomment
+minputfileloc
+comment
+comment
+memcpy
+mpbuf
+mbytesinbuf
+comment
+comment
+mbytesinbuf
+comment
+dates
+dates
+gcatinfopb
+hfileinfo
+ioflcrdat
+dates
+gcatinfopb
+hfileinfo
+ioflmddat
+dates
+gcatinfopb
+hfileinfo
+ioflbkdat
+dates
+dates
+gsecs
+dates
+ggmtdelta
+memcpy
+mpbuf
+mbytesinbuf
+dates
+mbytesinbuf
+finfo
+finfo
+gcatinfopb
+hfileinfo
+ioflfndrinfo
+fxinfo
+fxinfo
+gcatinfopb
+hfileinfo
+ioflxfndrinfo
+finfo
+fdflags
+finfo
+fdlocation
+finfo
+fdlocation
+finfo
+fdfldr
+memset
+fxinfo
+fxinfo
+memcpy
+mpbuf
+mbytesinbuf
+finfo
+mbytesinbuf
+memcpy
+mpbuf
+mbytesinbuf
+fxinfo
+mbytesinbuf
+dates
+gcatinfopb
+hfileinfo
+ioflattrib
+dates
+memcpy
+mpbuf
+mbytesinbuf
+dates
+mbytesinbuf
+endif
+prtrue
+prbool
+nsimportencodescan
+scan
+prbool
+pdone
+nsresult
+rv
+pdone
+prfalse
+misapplesingle
+mencodescanstate
+kbeginapplesingle
+ifdef
+macimportcode
+oserr
+err
+getcatinfononame
+minputfileloc
+getvrefnum
+minputfileloc
+getparid
+minputfileloc
+getfilenameptr
+gcatinfopb
+err
+noerr
+false
+endif
+meof
+prfalse
+mpos
+memcpy
+mpbuf
+gapplesingleheader
+kapplesingleheadersize
+mbytesinbuf
+kapplesingleheadersize
+numentries
+mdataforksize
+numentries
+mresourceforksize
+numentries
+memcpy
+mpbuf
+mbytesinbuf
+numentries
+numentries
+mbytesinbuf
+numentries
+fillinentries
+numentries
+mencodescanstate
+kaddentries
+scanbuffer
+pdone
+kbegindatafork
+mdataforksize
+mencodescanstate
+kdonewithfile
+prtrue
+prbool
+open
+prfalse
+rv
+mpinputfile
+isstreamopen
+open
+open
+rv
+mpinputfile
+openstreamforreading
+nsfailed
+rv
+prfalse
+mencodescanstate
+kscanningdatafork
+prtrue
+kscanningdatafork
+prbool
+result
+fillbufferfromfile
+result
+prfalse
+meof
+meof
+prfalse
+result
+scanbuffer
+pdone
+result
+prfalse
+mpinputfile
+closestream
+mencodescanstate
+kdonewithfile
+prtrue
+scanbuffer
+pdone
+kscanningrsrcfork
+prbool
+result
+fillbufferfromfile
+result
+prfalse
+meof
+meof
+prfalse
+result
+scanbuffer
+pdone
+result
+prfalse
+mpinputfile
+closestream
+mencodescanstate
+kbegindatafork
+prtrue
+scanbuffer
+pdone
+kbeginresourcefork
+mresourceforksize
+mencodescanstate
+kbegindatafork
+prtrue
+mencodescanstate
+kscanningrsrcfork
+prtrue
+kaddentries
+shiftbuffer
+addentries
+prfalse
+mencodescanstate
+kbeginresourcefork
+scanbuffer
+pdone
+kdonewithfile
+shiftbuffer
+meof
+prtrue
+scanbuffer
+pdone
+prfalse
+pdone
+prtrue
+prtrue
+nsimportscanfile
+scan
+pdone
+prfalse
\ No newline at end of file
@@ -0,0 +1,37 @@
+nscomptr
+nsimodule
+nsigenericfactory
+nsiimportservice
+nsimportservice
+nsimportmimeencode
+nscrt
+nsimportstringbundle
+importdebug
+nsgenericfactoryconstructor
+nsimportservice
+nsgenericfactoryconstructor
+nsiimportmimeencodeimpl
+nsmodulecomponentinfo
+components
+import
+service
+component
+nsimportservicecid
+nsimportservicecontractid
+nsimportserviceconstructor
+import
+mime
+encoder
+nsimportmimeencodecid
+mimeencode
+nsiimportmimeencodeimplconstructor
+prstaticcallback
+importmoduledtor
+nsimodule
+self
+nsimportstringbundle
+cleanup
+nsimplnsgetmodulewithdtor
+nsimportservicemodule
+components
+importmoduledtor
\ No newline at end of file
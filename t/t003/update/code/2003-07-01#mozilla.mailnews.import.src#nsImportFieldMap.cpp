@@ -0,0 +1,803 @@
+nscore
+nsistringbundle
+nsimportfieldmap
+nsimportstringbundle
+nsreadableutils
+importdebug
+nsmethod
+nsimportfieldmap
+create
+nsisupports
+aouter
+refnsiid
+aiid
+aresult
+aouter
+nserrornoaggregation
+nsimportfieldmap
+it
+nsimportfieldmap
+it
+nsnull
+nserroroutofmemory
+nsaddref
+it
+nsresult
+rv
+it
+queryinterface
+aiid
+aresult
+nsrelease
+it
+rv
+nsimplthreadsafeisupports
+nsimportfieldmap
+nsiimportfieldmap
+nsimportfieldmap
+nsimportfieldmap
+mnumfields
+mpfields
+nsnull
+mpactive
+nsnull
+mallocated
+mmozfieldcount
+nsistringbundle
+pbundle
+nsimportstringbundle
+getstringbundleproxy
+nsstring
+pstr
+print
+importfielddescstart
+importfielddescend
+mmozfieldcount
+pstr
+nsstring
+pbundle
+nsimportstringbundle
+getstringbyid
+pstr
+pbundle
+pstr
+appendint
+mdescriptions
+appendelement
+pstr
+nsifrelease
+pbundle
+nsimportfieldmap
+nsimportfieldmap
+mpfields
+mpfields
+mpactive
+mpactive
+nsstring
+pstr
+print
+mmozfieldcount
+pstr
+nsstring
+mdescriptions
+elementat
+pstr
+mdescriptions
+clear
+nsimethodimp
+nsimportfieldmap
+getnummozfields
+print
+anumfields
+nsprecondition
+anumfields
+nsnull
+ptr
+anumfields
+nserrornullpointer
+anumfields
+mmozfieldcount
+nsok
+nsimethodimp
+nsimportfieldmap
+getmapsize
+print
+anumfields
+nsprecondition
+anumfields
+nsnull
+ptr
+anumfields
+nserrornullpointer
+anumfields
+mnumfields
+nsok
+nsimethodimp
+nsimportfieldmap
+getfielddescription
+print
+index
+prunichar
+retval
+nsprecondition
+retval
+nsnull
+ptr
+retval
+nserrornullpointer
+retval
+nsnull
+index
+index
+mdescriptions
+count
+nserrorfailure
+retval
+tonewunicode
+nsstring
+mdescriptions
+elementat
+index
+nsok
+nsimethodimp
+nsimportfieldmap
+setfieldmapsize
+print
+size
+nsresult
+rv
+allocate
+size
+nsfailed
+rv
+rv
+mnumfields
+size
+nsok
+nsimethodimp
+nsimportfieldmap
+defaultfieldmap
+print
+size
+nsresult
+rv
+setfieldmapsize
+size
+nsfailed
+rv
+rv
+print
+size
+mpfields
+mpactive
+prtrue
+nsok
+nsimethodimp
+nsimportfieldmap
+getfieldmap
+print
+index
+print
+retval
+nsprecondition
+retval
+nsnull
+ptr
+retval
+nserrornullpointer
+index
+index
+mnumfields
+nserrorfailure
+retval
+mpfields
+index
+nsok
+nsimethodimp
+nsimportfieldmap
+setfieldmap
+print
+index
+print
+fieldnum
+index
+nsresult
+rv
+allocate
+mnumfields
+nsfailed
+rv
+rv
+index
+mnumfields
+mnumfields
+index
+index
+mnumfields
+nserrorfailure
+fieldnum
+fieldnum
+fieldnum
+mmozfieldcount
+nserrorfailure
+mpfields
+index
+fieldnum
+nsok
+nsimethodimp
+nsimportfieldmap
+setfieldmapbydescription
+print
+index
+prunichar
+fielddesc
+nsprecondition
+fielddesc
+nsnull
+ptr
+fielddesc
+nserrornullpointer
+print
+findfieldnum
+fielddesc
+nserrorfailure
+setfieldmap
+index
+nsimethodimp
+nsimportfieldmap
+getfieldactive
+print
+index
+prbool
+active
+nsprecondition
+active
+nsnull
+ptr
+active
+nserrornullpointer
+index
+index
+mnumfields
+nserrorfailure
+active
+mpactive
+index
+nsok
+nsimethodimp
+nsimportfieldmap
+setfieldactive
+print
+index
+prbool
+active
+index
+index
+mnumfields
+nserrorfailure
+mpactive
+index
+active
+nsok
+nsimethodimp
+nsimportfieldmap
+setfieldvalue
+nsiaddrdatabase
+database
+nsimdbrow
+row
+print
+fieldnum
+prunichar
+value
+nsprecondition
+database
+nsnull
+ptr
+nsprecondition
+row
+nsnull
+ptr
+nsprecondition
+value
+nsnull
+ptr
+database
+row
+value
+nserrornullpointer
+fieldnum
+nsok
+fieldnum
+fieldnum
+mmozfieldcount
+nserrorfailure
+nsresult
+rv
+nsstring
+str
+value
+pval
+tonewutfstring
+str
+fieldnum
+rv
+database
+addfirstname
+row
+pval
+rv
+database
+addlastname
+row
+pval
+rv
+database
+adddisplayname
+row
+pval
+rv
+database
+addnickname
+row
+pval
+rv
+database
+addprimaryemail
+row
+pval
+rv
+database
+addndemail
+row
+pval
+rv
+database
+addworkphone
+row
+pval
+rv
+database
+addhomephone
+row
+pval
+rv
+database
+addfaxnumber
+row
+pval
+rv
+database
+addpagernumber
+row
+pval
+rv
+database
+addcellularnumber
+row
+pval
+rv
+database
+addhomeaddress
+row
+pval
+rv
+database
+addhomeaddress
+row
+pval
+rv
+database
+addhomecity
+row
+pval
+rv
+database
+addhomestate
+row
+pval
+rv
+database
+addhomezipcode
+row
+pval
+rv
+database
+addhomecountry
+row
+pval
+rv
+database
+addworkaddress
+row
+pval
+rv
+database
+addworkaddress
+row
+pval
+rv
+database
+addworkcity
+row
+pval
+rv
+database
+addworkstate
+row
+pval
+rv
+database
+addworkzipcode
+row
+pval
+rv
+database
+addworkcountry
+row
+pval
+rv
+database
+addjobtitle
+row
+pval
+rv
+database
+adddepartment
+row
+pval
+rv
+database
+addcompany
+row
+pval
+rv
+database
+addwebpage
+row
+pval
+rv
+database
+addwebpage
+row
+pval
+rv
+database
+addbirthyear
+row
+pval
+rv
+database
+addbirthmonth
+row
+pval
+rv
+database
+addbirthday
+row
+pval
+rv
+database
+addcustom
+row
+pval
+rv
+database
+addcustom
+row
+pval
+rv
+database
+addcustom
+row
+pval
+rv
+database
+addcustom
+row
+pval
+rv
+database
+addnotes
+row
+pval
+rv
+nserrorfailure
+nscrt
+free
+pval
+rv
+nsimethodimp
+nsimportfieldmap
+setfieldvaluebydescription
+nsiaddrdatabase
+database
+nsimdbrow
+row
+prunichar
+fielddesc
+prunichar
+value
+nsprecondition
+fielddesc
+nsnull
+ptr
+fielddesc
+nserrornullpointer
+print
+findfieldnum
+fielddesc
+nserrorfailure
+setfieldvalue
+database
+row
+value
+nsimethodimp
+nsimportfieldmap
+getfieldvalue
+nsiabcard
+card
+print
+fieldnum
+prunichar
+retval
+nsprecondition
+retval
+nsnull
+ptr
+nsprecondition
+card
+nsnull
+ptr
+retval
+card
+nserrornullpointer
+fieldnum
+prunichar
+retval
+nscrt
+strdup
+nsok
+fieldnum
+fieldnum
+mmozfieldcount
+nserrorfailure
+nsresult
+rv
+prunichar
+pval
+nsnull
+fieldnum
+rv
+card
+getfirstname
+pval
+rv
+card
+getlastname
+pval
+rv
+card
+getdisplayname
+pval
+rv
+card
+getnickname
+pval
+rv
+card
+getprimaryemail
+pval
+rv
+card
+getsecondemail
+pval
+rv
+card
+getworkphone
+pval
+rv
+card
+gethomephone
+pval
+rv
+card
+getfaxnumber
+pval
+rv
+card
+getpagernumber
+pval
+rv
+card
+getcellularnumber
+pval
+rv
+card
+gethomeaddress
+pval
+rv
+card
+gethomeaddress
+pval
+rv
+card
+gethomecity
+pval
+rv
+card
+gethomestate
+pval
+rv
+card
+gethomezipcode
+pval
+rv
+card
+gethomecountry
+pval
+rv
+card
+getworkaddress
+pval
+rv
+card
+getworkaddress
+pval
+rv
+card
+getworkcity
+pval
+rv
+card
+getworkstate
+pval
+rv
+card
+getworkzipcode
+pval
+rv
+card
+getworkcountry
+pval
+rv
+card
+getjobtitle
+pval
+rv
+card
+getdepartment
+pval
+rv
+card
+getcompany
+pval
+rv
+card
+getwebpage
+pval
+rv
+card
+getwebpage
+pval
+rv
+card
+getbirthyear
+pval
+rv
+card
+getbirthmonth
+pval
+rv
+card
+getbirthday
+pval
+rv
+card
+getcustom
+pval
+rv
+card
+getcustom
+pval
+rv
+card
+getcustom
+pval
+rv
+card
+getcustom
+pval
+rv
+card
+getnotes
+pval
+rv
+nserrorfailure
+retval
+pval
+rv
+nsimethodimp
+nsimportfieldmap
+getfieldvaluebydescription
+nsiabcard
+card
+prunichar
+fielddesc
+prunichar
+retval
+nsprecondition
+fielddesc
+nsnull
+ptr
+fielddesc
+nserrornullpointer
+print
+findfieldnum
+fielddesc
+nserrorfailure
+getfieldvalue
+card
+retval
+nsresult
+nsimportfieldmap
+allocate
+print
+newsize
+newsize
+mallocated
+nsok
+print
+sz
+mallocated
+sz
+newsize
+sz
+print
+pdata
+print
+sz
+pdata
+nserrorfailure
+prbool
+pactive
+prbool
+sz
+pactive
+nserrorfailure
+print
+sz
+pdata
+pactive
+prtrue
+mnumfields
+mnumfields
+pdata
+mpfields
+pactive
+mpactive
+mpfields
+mpactive
+mallocated
+sz
+mpfields
+pdata
+mpactive
+pactive
+nsok
+print
+nsimportfieldmap
+findfieldnum
+prunichar
+pdesc
+nsstring
+pstr
+print
+mmozfieldcount
+pstr
+nsstring
+mdescriptions
+elementat
+pstr
+equals
+pdesc
\ No newline at end of file
@@ -0,0 +1,1760 @@
+ifdef
+mozlogging
+define
+forceprlog
+endif
+prthread
+prprf
+nscore
+nscomptr
+nsisupportsarray
+nsiimportmail
+nsiimportgeneric
+nsxpcom
+nsisupportsprimitives
+nsiimportmailboxdescriptor
+nscrt
+nsstring
+nsunicharutils
+nsiproxyobjectmanager
+nsxpidlstring
+nsifilespec
+nsimsgaccountmanager
+nsimessengermigrator
+nsimsgmailsession
+nsmsgbasecid
+nsimsgfolder
+nsimportstringbundle
+nsistringbundle
+nstextformatter
+nsiimportservice
+importdebug
+define
+importmsgsurl
+messenger
+locale
+importmsgs
+properties
+nsdefinecid
+kmsgaccountcid
+nsmsgaccountcid
+nsdefinecid
+kmsgidentitycid
+nsmsgidentitycid
+nsdefinecid
+kmsgbiffmanagercid
+nsmsgbiffmanagercid
+nsdefinecid
+kproxyobjectmanagercid
+nsproxyeventmanagercid
+nsdefinecid
+ksupportswstringcid
+nssupportsstringcid
+prstaticcallback
+importmailthread
+stuff
+nscomptr
+nsiimportservice
+gservice
+importthreaddata
+nsimportgenericmail
+nsiimportgeneric
+nsimportgenericmail
+nsimportgenericmail
+nsdeclisupports
+nsimethod
+getdata
+dataid
+nsisupports
+retval
+nsimethod
+setdata
+dataid
+nsisupports
+pdata
+nsimethod
+getstatus
+statuskind
+print
+retval
+nsimethod
+wantsprogress
+prbool
+retval
+nsimethodimp
+beginimport
+nsisupportsstring
+successlog
+nsisupportsstring
+errorlog
+prbool
+isaddrlochome
+prbool
+retval
+nsimethod
+continueimport
+prbool
+retval
+nsimethod
+getprogress
+print
+retval
+nsimethod
+cancelimport
+prbool
+createfolder
+nsimsgfolder
+ppfolder
+getdefaultmailboxes
+getdefaultlocation
+getdefaultdestination
+getmailboxname
+pruint
+index
+nsisupportsstring
+pstr
+setlogs
+nsstring
+success
+nsstring
+error
+nsisupportsstring
+psuccess
+nsisupportsstring
+perror
+reporterror
+print
+id
+prunichar
+pname
+nsstring
+pstream
+nsstring
+mpname
+nsimsgfolder
+mpdestfolder
+prbool
+mdeletedestfolder
+prbool
+mcreatedfolder
+nscomptr
+nsifilespec
+mpsrclocation
+prbool
+mgotlocation
+prbool
+mfound
+prbool
+muserverify
+nsiimportmail
+mpinterface
+nsisupportsarray
+mpmailboxes
+nsisupportsstring
+mpsuccesslog
+nsisupportsstring
+mperrorlog
+pruint
+mtotalsize
+prbool
+mdoimport
+importthreaddata
+mpthreaddata
+importthreaddata
+prbool
+driveralive
+prbool
+threadalive
+prbool
+abort
+prbool
+fatalerror
+pruint
+currenttotal
+pruint
+currentsize
+nsimsgfolder
+destroot
+prbool
+ownsdestroot
+nsisupportsarray
+boxes
+nsiimportmail
+mailimport
+nsisupportsstring
+successlog
+nsisupportsstring
+errorlog
+pruint
+currentmailbox
+importthreaddata
+importthreaddata
+driverdelete
+threaddelete
+driverabort
+nsresult
+nsnewgenericmail
+nsiimportgeneric
+aimportgeneric
+nsprecondition
+aimportgeneric
+nsnull
+ptr
+aimportgeneric
+nserrornullpointer
+nsimportgenericmail
+pgen
+nsimportgenericmail
+pgen
+nsnull
+nserroroutofmemory
+nsaddref
+pgen
+nsresult
+rv
+pgen
+queryinterface
+nsgetiid
+nsiimportgeneric
+aimportgeneric
+nsrelease
+pgen
+rv
+nsimportgenericmail
+nsimportgenericmail
+mfound
+prfalse
+muserverify
+prfalse
+mgotlocation
+prfalse
+mpinterface
+nsnull
+mpmailboxes
+nsnull
+mpsuccesslog
+nsnull
+mperrorlog
+nsnull
+mtotalsize
+mdoimport
+prfalse
+mpthreaddata
+nsnull
+mpdestfolder
+nsnull
+mdeletedestfolder
+prfalse
+mcreatedfolder
+prfalse
+importlogmodule
+importlogmodule
+prnewlogmodule
+import
+nsimportgenericmail
+nsimportgenericmail
+mpthreaddata
+mpthreaddata
+driverabort
+mpthreaddata
+nsnull
+nsifrelease
+mpdestfolder
+nsifrelease
+mpinterface
+nsifrelease
+mpmailboxes
+nsifrelease
+mpsuccesslog
+nsifrelease
+mperrorlog
+nsimplthreadsafeisupports
+nsimportgenericmail
+nsiimportgeneric
+nsimethodimp
+nsimportgenericmail
+getdata
+dataid
+nsisupports
+retval
+nsresult
+rv
+nsok
+nsprecondition
+retval
+nsnull
+ptr
+retval
+nserrornullpointer
+retval
+nsnull
+nscrt
+strcasecmp
+dataid
+mailinterface
+retval
+mpinterface
+nsifaddref
+mpinterface
+nscrt
+strcasecmp
+dataid
+mailboxes
+mpmailboxes
+getdefaultmailboxes
+retval
+mpmailboxes
+nsifaddref
+mpmailboxes
+nscrt
+strcasecmp
+dataid
+maillocation
+mpsrclocation
+getdefaultlocation
+nsifaddref
+retval
+mpsrclocation
+nscrt
+strcasecmp
+dataid
+maildestination
+mpdestfolder
+getdefaultdestination
+retval
+mpdestfolder
+nsifaddref
+mpdestfolder
+nscrt
+strcasecmp
+dataid
+currentmailbox
+nscomptr
+nsisupportsstring
+data
+rv
+nscomponentmanager
+createinstance
+ksupportswstringcid
+nsnull
+nsgetiid
+nsisupportsstring
+getteraddrefs
+data
+nsfailed
+rv
+rv
+mpthreaddata
+getmailboxname
+mpthreaddata
+currentmailbox
+data
+retval
+data
+nsaddref
+retval
+rv
+nsimethodimp
+nsimportgenericmail
+setdata
+dataid
+nsisupports
+item
+nsresult
+rv
+nsok
+nsprecondition
+dataid
+nsnull
+ptr
+dataid
+nserrornullpointer
+nscrt
+strcasecmp
+dataid
+mailinterface
+nsifrelease
+mpinterface
+item
+item
+queryinterface
+nsgetiid
+nsiimportmail
+mpinterface
+nscrt
+strcasecmp
+dataid
+mailboxes
+nsifrelease
+mpmailboxes
+item
+item
+queryinterface
+nsgetiid
+nsisupportsarray
+mpmailboxes
+nscrt
+strcasecmp
+dataid
+maillocation
+nsifrelease
+mpmailboxes
+mpsrclocation
+nsnull
+item
+nsresult
+rv
+nscomptr
+nsilocalfile
+location
+doqueryinterface
+item
+rv
+nsensuresuccess
+rv
+rv
+rv
+nsnewfilespecfromifile
+location
+getteraddrefs
+mpsrclocation
+nsensuresuccess
+rv
+rv
+nscrt
+strcasecmp
+dataid
+maildestination
+nsifrelease
+mpdestfolder
+item
+item
+queryinterface
+nsgetiid
+nsimsgfolder
+mpdestfolder
+mdeletedestfolder
+prfalse
+nscrt
+strcasecmp
+dataid
+name
+nscomptr
+nsisupportsstring
+namestring
+item
+item
+queryinterface
+nsgetiid
+nsisupportsstring
+getteraddrefs
+namestring
+rv
+namestring
+getdata
+mpname
+rv
+nsimethodimp
+nsimportgenericmail
+getstatus
+statuskind
+print
+retval
+nsprecondition
+statuskind
+nsnull
+ptr
+nsprecondition
+retval
+nsnull
+ptr
+statuskind
+retval
+nserrornullpointer
+retval
+nscrt
+strcasecmp
+statuskind
+isinstalled
+getdefaultlocation
+retval
+print
+mfound
+nscrt
+strcasecmp
+statuskind
+canusersetlocation
+getdefaultlocation
+retval
+print
+muserverify
+nsok
+nsimportgenericmail
+getdefaultlocation
+mpinterface
+mpsrclocation
+mgotlocation
+mgotlocation
+prtrue
+nsifilespec
+ploc
+nsnull
+mpinterface
+getdefaultlocation
+ploc
+mfound
+muserverify
+mpsrclocation
+mpsrclocation
+ploc
+nsifrelease
+ploc
+nsimportgenericmail
+getdefaultmailboxes
+mpinterface
+mpmailboxes
+mpsrclocation
+mpinterface
+findmailboxes
+mpsrclocation
+mpmailboxes
+nsimportgenericmail
+getdefaultdestination
+mpdestfolder
+mpinterface
+nsimsgfolder
+rootfolder
+mdeletedestfolder
+prfalse
+mcreatedfolder
+prfalse
+createfolder
+rootfolder
+mpdestfolder
+rootfolder
+mdeletedestfolder
+prtrue
+mcreatedfolder
+prtrue
+importlog
+getdefaultdestination
+failed
+to
+create
+destination
+folder
+nsimethodimp
+nsimportgenericmail
+wantsprogress
+prbool
+retval
+nsprecondition
+retval
+nsnull
+ptr
+retval
+nserrornullpointer
+mpthreaddata
+mpthreaddata
+driverabort
+mpthreaddata
+nsnull
+mpmailboxes
+getdefaultlocation
+getdefaultmailboxes
+mpdestfolder
+getdefaultdestination
+pruint
+totalsize
+prbool
+result
+prfalse
+mpmailboxes
+pruint
+prbool
+pruint
+count
+nsresult
+rv
+pruint
+size
+rv
+mpmailboxes
+count
+count
+count
+nscomptr
+nsiimportmailboxdescriptor
+box
+doqueryelementat
+mpmailboxes
+box
+prfalse
+size
+rv
+box
+getimport
+rv
+box
+getsize
+size
+result
+prtrue
+totalsize
+size
+mtotalsize
+totalsize
+mdoimport
+result
+retval
+result
+nsok
+nsimportgenericmail
+getmailboxname
+pruint
+index
+nsisupportsstring
+pstr
+mpmailboxes
+nscomptr
+nsiimportmailboxdescriptor
+box
+doqueryelementat
+mpmailboxes
+index
+box
+nsxpidlstring
+name
+box
+getdisplayname
+gettercopies
+name
+name
+isempty
+pstr
+setdata
+name
+nsimethodimp
+nsimportgenericmail
+beginimport
+nsisupportsstring
+successlog
+nsisupportsstring
+errorlog
+prbool
+isaddrlochome
+prbool
+retval
+nsprecondition
+retval
+nsnull
+ptr
+retval
+nserrornullpointer
+nsstring
+success
+nsstring
+error
+mdoimport
+nsimportstringbundle
+getstringbyid
+importnomailboxes
+success
+setlogs
+success
+error
+successlog
+errorlog
+retval
+prtrue
+nsok
+mpinterface
+mpmailboxes
+importlog
+beginimport
+either
+the
+source
+mailbox
+is
+set
+properly
+nsimportstringbundle
+getstringbyid
+importerrormbnotinitialized
+error
+setlogs
+success
+error
+successlog
+errorlog
+retval
+prfalse
+nsok
+mpdestfolder
+importlog
+beginimport
+the
+destination
+mailbox
+is
+set
+properly
+nsimportstringbundle
+getstringbyid
+importerrormbnodestfolder
+error
+setlogs
+success
+error
+successlog
+errorlog
+retval
+prfalse
+nsok
+mpthreaddata
+mpthreaddata
+driverabort
+mpthreaddata
+nsnull
+nsifrelease
+mpsuccesslog
+nsifrelease
+mperrorlog
+mpsuccesslog
+successlog
+mperrorlog
+errorlog
+nsifaddref
+mpsuccesslog
+nsifaddref
+mperrorlog
+mpthreaddata
+importthreaddata
+mpthreaddata
+boxes
+mpmailboxes
+nsaddref
+mpmailboxes
+mpthreaddata
+mailimport
+mpinterface
+nsaddref
+mpinterface
+mpthreaddata
+errorlog
+mperrorlog
+nsifaddref
+mperrorlog
+mpthreaddata
+successlog
+mpsuccesslog
+nsifaddref
+mpsuccesslog
+mpthreaddata
+ownsdestroot
+mdeletedestfolder
+mpthreaddata
+destroot
+mpdestfolder
+nsifaddref
+mpdestfolder
+prthread
+pthread
+prcreatethread
+pruserthread
+importmailthread
+mpthreaddata
+prprioritynormal
+prlocalthread
+prunjoinablethread
+pthread
+mpthreaddata
+threaddelete
+mpthreaddata
+abort
+prtrue
+mpthreaddata
+driverabort
+mpthreaddata
+nsnull
+retval
+prfalse
+nsimportstringbundle
+getstringbyid
+importerrormbnothread
+error
+setlogs
+success
+error
+successlog
+errorlog
+retval
+prtrue
+nsok
+nsimethodimp
+nsimportgenericmail
+continueimport
+prbool
+retval
+nsprecondition
+retval
+nsnull
+ptr
+retval
+nserrornullpointer
+retval
+prtrue
+mpthreaddata
+mpthreaddata
+fatalerror
+retval
+prfalse
+nsok
+nsimethodimp
+nsimportgenericmail
+getprogress
+print
+retval
+nsprecondition
+retval
+nsnull
+ptr
+retval
+nserrornullpointer
+mpthreaddata
+mpthreaddata
+threadalive
+retval
+nsok
+pruint
+sz
+mpthreaddata
+currentsize
+mpinterface
+nsfailed
+mpinterface
+getimportprogress
+sz
+sz
+mtotalsize
+prfloat
+perc
+perc
+prfloat
+mpthreaddata
+currenttotal
+perc
+sz
+perc
+perc
+mtotalsize
+retval
+print
+perc
+retval
+retval
+retval
+retval
+retval
+nsok
+nsimportgenericmail
+reporterror
+print
+id
+prunichar
+pname
+nsstring
+pstream
+pstream
+nsistringbundle
+pbundle
+nsimportstringbundle
+getstringbundleproxy
+prunichar
+pfmt
+nsimportstringbundle
+getstringbyid
+id
+pbundle
+prunichar
+ptext
+nstextformatter
+smprintf
+pfmt
+pname
+pstream
+append
+ptext
+nstextformatter
+smprintffree
+ptext
+nsimportstringbundle
+freestring
+pfmt
+pstream
+appendwithconversion
+nslinebreak
+nsifrelease
+pbundle
+nsimportgenericmail
+setlogs
+nsstring
+success
+nsstring
+error
+nsisupportsstring
+psuccess
+nsisupportsstring
+perror
+nsautostring
+str
+psuccess
+psuccess
+getdata
+str
+str
+append
+success
+psuccess
+setdata
+str
+perror
+perror
+getdata
+str
+str
+append
+error
+perror
+setdata
+str
+nsimethodimp
+nsimportgenericmail
+cancelimport
+mpthreaddata
+mpthreaddata
+abort
+prtrue
+mpthreaddata
+driverabort
+mpthreaddata
+nsnull
+nsok
+importthreaddata
+importthreaddata
+fatalerror
+prfalse
+driveralive
+prtrue
+threadalive
+prtrue
+abort
+prfalse
+currenttotal
+currentsize
+destroot
+nsnull
+ownsdestroot
+prfalse
+boxes
+nsnull
+mailimport
+nsnull
+successlog
+nsnull
+errorlog
+nsnull
+importthreaddata
+importthreaddata
+nsifrelease
+destroot
+nsifrelease
+boxes
+nsifrelease
+mailimport
+nsifrelease
+errorlog
+nsifrelease
+successlog
+importthreaddata
+driverdelete
+driveralive
+prfalse
+driveralive
+threadalive
+importthreaddata
+threaddelete
+threadalive
+prfalse
+driveralive
+threadalive
+importthreaddata
+driverabort
+abort
+threadalive
+destroot
+ownsdestroot
+destroot
+recursivedelete
+prtrue
+nsnull
+abort
+prtrue
+driverdelete
+prstaticcallback
+importmailthread
+stuff
+importthreaddata
+pdata
+importthreaddata
+stuff
+importlog
+importmailthread
+starting
+nsresult
+rv
+nsok
+nscomptr
+nsimsgfolder
+destroot
+pdata
+destroot
+pruint
+count
+rv
+pdata
+boxes
+count
+count
+pruint
+prbool
+pruint
+size
+pruint
+depth
+pruint
+newdepth
+nsstring
+lastname
+prunichar
+pname
+nscomptr
+nsimsgfolder
+curfolder
+destroot
+nscomptr
+nsimsgfolder
+curproxy
+nscomptr
+nsimsgfolder
+newfolder
+nscomptr
+nsifilespec
+outbox
+nscomptr
+nsisupports
+subfolder
+nscomptr
+nsienumerator
+enumerator
+prbool
+exists
+nsstring
+success
+nsstring
+error
+nscomptr
+nsistringbundle
+bundle
+dontaddref
+nsimportstringbundle
+getstringbundleproxy
+nscomptr
+nsiproxyobjectmanager
+proxymgr
+dogetservice
+kproxyobjectmanagercid
+rv
+nssucceeded
+rv
+rv
+proxymgr
+getproxyforobject
+nsuithreadeventq
+nsgetiid
+nsimsgfolder
+curfolder
+proxysync
+proxyalways
+getteraddrefs
+curproxy
+nssucceeded
+rv
+curproxy
+getsubfolders
+getteraddrefs
+enumerator
+importlog
+importmailthread
+can
+get
+the
+destination
+root
+folder
+proxy
+rv
+lx
+rv
+importlog
+importmailthread
+unable
+to
+obtain
+proxy
+service
+to
+the
+nsimportstringbundle
+getstringbyid
+importerrormbnoproxy
+error
+bundle
+pdata
+abort
+prtrue
+importlog
+importmailthread
+total
+number
+of
+folders
+to
+count
+count
+pdata
+abort
+nscomptr
+nsiimportmailboxdescriptor
+box
+doqueryelementat
+pdata
+boxes
+box
+pdata
+currentmailbox
+prfalse
+size
+rv
+box
+getimport
+rv
+box
+getsize
+size
+rv
+box
+getdepth
+newdepth
+newdepth
+depth
+importlog
+importmailthread
+processing
+child
+folder
+nsconvertucstoutf
+lastname
+get
+rv
+curproxy
+getchildnamed
+lastname
+get
+getteraddrefs
+subfolder
+nsfailed
+rv
+importlog
+importmailthread
+failed
+to
+get
+the
+child
+folder
+nsconvertucstoutf
+lastname
+get
+nsimportgenericmail
+reporterror
+importerrormbfindchild
+lastname
+get
+error
+pdata
+fatalerror
+prtrue
+rv
+proxymgr
+getproxyforobject
+nsuithreadeventq
+nsgetiid
+nsimsgfolder
+subfolder
+proxysync
+proxyalways
+getteraddrefs
+curproxy
+nsfailed
+rv
+importlog
+importmailthread
+failed
+to
+get
+the
+proxy
+child
+folder
+nsconvertucstoutf
+lastname
+get
+nsimportstringbundle
+getstringbyid
+importerrormbnoproxy
+error
+bundle
+pdata
+fatalerror
+prtrue
+rv
+curproxy
+getsubfolders
+getteraddrefs
+enumerator
+newdepth
+depth
+rv
+nsok
+newdepth
+depth
+nssucceeded
+rv
+nscomptr
+nsifolder
+parfolder
+rv
+curproxy
+getparent
+getteraddrefs
+parfolder
+nsfailed
+rv
+importlog
+importmailthread
+failed
+to
+get
+the
+parent
+folder
+lastname
+get
+nsimportgenericmail
+reporterror
+importerrormbfindchild
+lastname
+get
+error
+pdata
+fatalerror
+prtrue
+rv
+proxymgr
+getproxyforobject
+nsuithreadeventq
+nsgetiid
+nsimsgfolder
+parfolder
+proxysync
+proxyalways
+getteraddrefs
+curproxy
+depth
+nsfailed
+rv
+importlog
+importmailthread
+failed
+to
+get
+the
+proxy
+parent
+folder
+lastname
+get
+nsimportstringbundle
+getstringbyid
+importerrormbnoproxy
+error
+bundle
+pdata
+fatalerror
+prtrue
+depth
+newdepth
+pname
+nsnull
+box
+getdisplayname
+pname
+pname
+lastname
+pname
+nscrt
+free
+pname
+lastname
+assign
+nsliteralstring
+unknown
+exists
+prfalse
+rv
+curproxy
+containschildnamed
+lastname
+get
+exists
+exists
+nsxpidlstring
+subname
+curproxy
+generateuniquesubfoldername
+lastname
+get
+nsnull
+gettercopies
+subname
+subname
+isempty
+lastname
+assign
+subname
+importlog
+importmailthread
+creating
+folder
+nsconvertucstoutf
+lastname
+get
+rv
+curproxy
+createsubfolder
+lastname
+get
+nsnull
+nssucceeded
+rv
+rv
+curproxy
+getchildnamed
+lastname
+get
+getteraddrefs
+subfolder
+nssucceeded
+rv
+newfolder
+doqueryinterface
+subfolder
+newfolder
+newfolder
+getpath
+getteraddrefs
+outbox
+importlog
+importmailthread
+failed
+to
+locate
+subfolder
+lastname
+get
+importlog
+importmailthread
+failed
+to
+locate
+subfolder
+after
+it
+been
+created
+lastname
+get
+importlog
+importmailthread
+failed
+to
+create
+subfolder
+lastname
+get
+nsfailed
+rv
+nsimportgenericmail
+reporterror
+importerrormbcreate
+lastname
+get
+error
+size
+newfolder
+outbox
+nssucceeded
+rv
+prbool
+fatalerror
+prfalse
+pdata
+currentsize
+size
+prunichar
+psuccess
+nsnull
+prunichar
+perror
+nsnull
+rv
+pdata
+mailimport
+importmailbox
+box
+outbox
+perror
+psuccess
+fatalerror
+perror
+error
+append
+perror
+nscrt
+free
+perror
+psuccess
+success
+append
+psuccess
+nscrt
+free
+psuccess
+pdata
+currentsize
+pdata
+currenttotal
+size
+outbox
+closestream
+newfolder
+forcedbclosed
+fatalerror
+importlog
+importmailthread
+importmailbox
+returned
+fatalerror
+mailbox
+pdata
+fatalerror
+prtrue
+nscomptr
+nsimsgaccountmanager
+accmgr
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nssucceeded
+rv
+accmgr
+rv
+accmgr
+saveaccountinfo
+nsassertion
+nssucceeded
+rv
+can
+save
+account
+info
+to
+pref
+file
+nsimportgenericmail
+setlogs
+success
+error
+pdata
+successlog
+pdata
+errorlog
+pdata
+abort
+pdata
+fatalerror
+importlog
+importmailthread
+abort
+fatalerror
+flag
+was
+set
+pdata
+ownsdestroot
+importlog
+calling
+destroot
+recursivedelete
+destroot
+recursivedelete
+prtrue
+nsnull
+importlog
+import
+mailbox
+thread
+done
+pdata
+currenttotal
+pdata
+threaddelete
+prbool
+nsimportgenericmail
+createfolder
+nsimsgfolder
+ppfolder
+nsresult
+rv
+ppfolder
+nsnull
+nscomptr
+nsistringbundle
+bundle
+nscomptr
+nsistringbundleservice
+bundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsfailed
+rv
+bundleservice
+prfalse
+rv
+bundleservice
+createbundle
+importmsgsurl
+getteraddrefs
+bundle
+nsfailed
+rv
+prfalse
+nsxpidlstring
+foldername
+mpname
+isempty
+prunichar
+modulename
+mpname
+get
+rv
+bundle
+formatstringfromname
+nsliteralstring
+modulefoldername
+get
+modulename
+gettercopies
+foldername
+rv
+bundle
+getstringfromname
+nsliteralstring
+defaultfoldername
+get
+gettercopies
+foldername
+nsfailed
+rv
+importlog
+failed
+to
+get
+folder
+name
+prfalse
+nscomptr
+nsimsgaccountmanager
+accmgr
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsfailed
+rv
+importlog
+failed
+to
+create
+account
+manager
+prfalse
+nscomptr
+nsimsgincomingserver
+server
+rv
+accmgr
+getlocalfoldersserver
+getteraddrefs
+server
+nsfailed
+rv
+server
+nscomptr
+nsimessengermigrator
+messengermigrator
+dogetservice
+nsmessengermigratorcontractid
+rv
+nsfailed
+rv
+importlog
+failed
+to
+create
+messenger
+migrator
+prfalse
+rv
+messengermigrator
+createlocalmailaccount
+prfalse
+nsfailed
+rv
+importlog
+failed
+to
+create
+local
+folders
+prfalse
+rv
+accmgr
+getlocalfoldersserver
+getteraddrefs
+server
+nssucceeded
+rv
+server
+nscomptr
+nsimsgfolder
+localrootfolder
+rv
+server
+getrootmsgfolder
+getteraddrefs
+localrootfolder
+localrootfolder
+nscomptr
+nsienumerator
+aenumerator
+rv
+localrootfolder
+getsubfolders
+getteraddrefs
+aenumerator
+nssucceeded
+rv
+prbool
+exists
+prfalse
+rv
+localrootfolder
+containschildnamed
+foldername
+get
+exists
+exists
+nsxpidlstring
+name
+localrootfolder
+generateuniquesubfoldername
+foldername
+get
+nsnull
+gettercopies
+name
+name
+isempty
+foldername
+assign
+name
+importlog
+failed
+to
+find
+unique
+folder
+name
+prfalse
+importlog
+creating
+folder
+importing
+mail
+nsconvertucstoutf
+foldername
+get
+rv
+localrootfolder
+createsubfolder
+foldername
+get
+nsnull
+nssucceeded
+rv
+nscomptr
+nsisupports
+subfolder
+rv
+localrootfolder
+getchildnamed
+foldername
+get
+getteraddrefs
+subfolder
+subfolder
+subfolder
+queryinterface
+nsgetiid
+nsimsgfolder
+ppfolder
+ppfolder
+importlog
+folder
+created
+successfully
+nsconvertucstoutf
+foldername
+get
+prtrue
+importlog
+failed
+to
+create
+folder
+for
+import
+prfalse
\ No newline at end of file
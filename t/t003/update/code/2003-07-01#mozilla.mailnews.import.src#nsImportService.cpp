@@ -0,0 +1,1053 @@
+ifdef
+mozlogging
+define
+forceprlog
+endif
+nsicharsetconvertermanager
+nsicharsetalias
+nsiplatformcharset
+nsicharsetconvertermanager
+nscrt
+nsstring
+nsicomponentmanager
+nsiservicemanager
+nsmemory
+nsienumerator
+nsiimportmodule
+nsiimportservice
+nsimportmailboxdescriptor
+nsimportabdescriptor
+nsiimportgeneric
+nsimportfieldmap
+nsicategorymanager
+nsxpidlstring
+nsxpcom
+nsisupportsprimitives
+nsimportstringbundle
+plstr
+prmem
+importdebug
+nsimportservice
+prlogmoduleinfo
+importlogmodule
+nsnull
+nsdefinecid
+kcomponentmanagercid
+nscomponentmanagercid
+nsdefinecid
+kcharsetconvertermanagercid
+nsicharsetconvertermanagercid
+nsiimportservice
+gimportservice
+nsnull
+kwhitespace
+nsimportservice
+nsimportservice
+mpmodules
+nsnull
+importlogmodule
+importlogmodule
+prnewlogmodule
+import
+importlog
+nsimport
+service
+created
+mdiddiscovery
+prfalse
+mpdecoder
+nsnull
+mpencoder
+nsnull
+nsstring
+str
+systemstringtounicode
+dummy
+str
+nsimportstringbundle
+getstringbundle
+nsimportservice
+nsimportservice
+nsifrelease
+mpdecoder
+nsifrelease
+mpencoder
+gimportservice
+nsnull
+mpmodules
+nsnull
+mpmodules
+importlog
+nsimport
+service
+deleted
+nsimplthreadsafeisupports
+nsimportservice
+nsiimportservice
+nsimethodimp
+nsimportservice
+discovermodules
+mdiddiscovery
+prfalse
+dodiscover
+nsimethodimp
+nsimportservice
+createnewfieldmap
+nsiimportfieldmap
+retval
+nsresult
+rv
+rv
+nsimportfieldmap
+create
+nsnull
+nsgetiid
+nsiimportfieldmap
+retval
+rv
+nsimethodimp
+nsimportservice
+createnewmailboxdescriptor
+nsiimportmailboxdescriptor
+retval
+nsresult
+rv
+rv
+nsimportmailboxdescriptor
+create
+nsnull
+nsgetiid
+nsiimportmailboxdescriptor
+retval
+rv
+nsimethodimp
+nsimportservice
+createnewabdescriptor
+nsiimportabdescriptor
+retval
+nsresult
+rv
+rv
+nsimportabdescriptor
+create
+nsnull
+nsgetiid
+nsiimportabdescriptor
+retval
+rv
+nsimethodimp
+nsimportservice
+systemstringtounicode
+sysstr
+nsstring
+unistr
+nsresult
+rv
+msyscharset
+isempty
+nscomptr
+nsiplatformcharset
+platformcharset
+dogetservice
+nsplatformcharsetcontractid
+rv
+nssucceeded
+rv
+rv
+platformcharset
+getcharset
+kplatformcharsetselfilename
+msyscharset
+nsfailed
+rv
+msyscharset
+assign
+nsliteralcstring
+iso
+sysstr
+unistr
+truncate
+nsok
+sysstr
+unistr
+truncate
+nsok
+msyscharset
+isempty
+msyscharset
+equalsignorecase
+us
+ascii
+msyscharset
+equalsignorecase
+iso
+unistr
+assignwithconversion
+sysstr
+nsok
+mpdecoder
+nscomptr
+nsicharsetconvertermanager
+ccm
+dogetservice
+nscharsetconvertermanagercontractid
+rv
+nssucceeded
+rv
+nsnull
+ccm
+rv
+ccm
+getunicodedecoder
+msyscharset
+get
+mpdecoder
+mpdecoder
+print
+srclen
+plstrlen
+sysstr
+prunichar
+unichars
+print
+unicharlength
+rv
+mpdecoder
+getmaxlength
+sysstr
+srclen
+unicharlength
+unichars
+prunichar
+prmalloc
+unicharlength
+prunichar
+unichars
+nsnull
+rv
+mpdecoder
+convert
+sysstr
+srclen
+unichars
+unicharlength
+unistr
+assign
+unichars
+unicharlength
+prfree
+unichars
+rv
+nserroroutofmemory
+nsfailed
+rv
+unistr
+assignwithconversion
+sysstr
+rv
+nsimethodimp
+nsimportservice
+systemstringfromunicode
+prunichar
+unistr
+nscstring
+sysstr
+nsresult
+rv
+msyscharset
+isempty
+nscomptr
+nsiplatformcharset
+platformcharset
+dogetservice
+nsplatformcharsetcontractid
+rv
+nssucceeded
+rv
+rv
+platformcharset
+getcharset
+kplatformcharsetselfilename
+msyscharset
+nsfailed
+rv
+msyscharset
+assign
+nsliteralcstring
+iso
+unistr
+sysstr
+truncate
+nsok
+unistr
+sysstr
+truncate
+nsok
+msyscharset
+isempty
+msyscharset
+equalsignorecase
+us
+ascii
+msyscharset
+equalsignorecase
+iso
+sysstr
+assignwithconversion
+unistr
+nsok
+mpencoder
+nscomptr
+nsicharsetconvertermanager
+ccm
+dogetservice
+nscharsetconvertermanagercontractid
+rv
+nssucceeded
+rv
+nsnull
+ccm
+rv
+ccm
+getunicodeencoder
+msyscharset
+get
+mpencoder
+nssucceeded
+rv
+rv
+mpencoder
+setoutputerrorbehavior
+nsiunicodeencoder
+konerrorreplace
+nsnull
+mpencoder
+print
+srclen
+nscrt
+strlen
+unistr
+chars
+print
+charlength
+rv
+mpencoder
+getmaxlength
+unistr
+srclen
+charlength
+chars
+nsstaticcast
+nsmemory
+alloc
+charlength
+chars
+nsnull
+rv
+mpencoder
+convert
+unistr
+srclen
+chars
+charlength
+sysstr
+assign
+chars
+charlength
+nsmemory
+free
+chars
+rv
+nserroroutofmemory
+nsfailed
+rv
+sysstr
+assignwithconversion
+unistr
+rv
+nsresult
+nsnewgenericmail
+nsiimportgeneric
+aimportgeneric
+nsimethodimp
+nsimportservice
+createnewgenericmail
+nsiimportgeneric
+retval
+nsprecondition
+retval
+nsnull
+ptr
+retval
+nserrornullpointer
+nsnewgenericmail
+retval
+nsresult
+nsnewgenericaddressbooks
+nsiimportgeneric
+aimportgeneric
+nsimethodimp
+nsimportservice
+createnewgenericaddressbooks
+nsiimportgeneric
+retval
+nsprecondition
+retval
+nsnull
+ptr
+retval
+nserrornullpointer
+nsnewgenericaddressbooks
+retval
+nsimethodimp
+nsimportservice
+getmodulecount
+filter
+print
+retval
+nsprecondition
+retval
+nsnull
+ptr
+retval
+nserrornullpointer
+dodiscover
+mpmodules
+nsnull
+importmoduledesc
+pdesc
+print
+count
+print
+mpmodules
+getcount
+pdesc
+mpmodules
+getmoduledesc
+pdesc
+supportsthings
+filter
+count
+retval
+count
+retval
+nsok
+nsimethodimp
+nsimportservice
+getmodulewithcid
+nscid
+cid
+nsiimportmodule
+ppmodule
+nsprecondition
+ppmodule
+nsnull
+ptr
+ppmodule
+nserrornullpointer
+ppmodule
+nsnull
+nsresult
+rv
+dodiscover
+nsfailed
+rv
+rv
+mpmodules
+nsnull
+nserrorfailure
+print
+cnt
+mpmodules
+getcount
+importmoduledesc
+pdesc
+print
+cnt
+pdesc
+mpmodules
+getmoduledesc
+pdesc
+nserrorfailure
+pdesc
+getcid
+equals
+cid
+ppmodule
+pdesc
+getmodule
+importlog
+nsimportservice
+getspecificmodule
+attempted
+to
+load
+module
+ppmodule
+nsnull
+nserrorfailure
+nsok
+importlog
+nsimportservice
+getspecificmodule
+module
+found
+nserrornotavailable
+nsimethodimp
+nsimportservice
+getmoduleinfo
+filter
+print
+index
+prunichar
+name
+prunichar
+moduledescription
+nsprecondition
+name
+nsnull
+ptr
+nsprecondition
+moduledescription
+nsnull
+ptr
+name
+moduledescription
+nserrornullpointer
+name
+nsnull
+moduledescription
+nsnull
+dodiscover
+mpmodules
+nserrorfailure
+index
+index
+mpmodules
+getcount
+nserrorfailure
+importmoduledesc
+pdesc
+print
+count
+print
+mpmodules
+getcount
+pdesc
+mpmodules
+getmoduledesc
+pdesc
+supportsthings
+filter
+count
+index
+name
+nscrt
+strdup
+pdesc
+getname
+moduledescription
+nscrt
+strdup
+pdesc
+getdescription
+nsok
+count
+nserrorfailure
+nsimethodimp
+nsimportservice
+getmodulename
+filter
+print
+index
+prunichar
+retval
+nsprecondition
+retval
+nsnull
+ptr
+retval
+nserrornullpointer
+retval
+nsnull
+dodiscover
+mpmodules
+nserrorfailure
+index
+index
+mpmodules
+getcount
+nserrorfailure
+importmoduledesc
+pdesc
+print
+count
+print
+mpmodules
+getcount
+pdesc
+mpmodules
+getmoduledesc
+pdesc
+supportsthings
+filter
+count
+index
+retval
+nscrt
+strdup
+pdesc
+getname
+nsok
+count
+nserrorfailure
+nsimethodimp
+nsimportservice
+getmoduledescription
+filter
+print
+index
+prunichar
+retval
+nsprecondition
+retval
+nsnull
+ptr
+retval
+nserrornullpointer
+retval
+nsnull
+dodiscover
+mpmodules
+nserrorfailure
+index
+index
+mpmodules
+getcount
+nserrorfailure
+importmoduledesc
+pdesc
+print
+count
+print
+mpmodules
+getcount
+pdesc
+mpmodules
+getmoduledesc
+pdesc
+supportsthings
+filter
+count
+index
+retval
+nscrt
+strdup
+pdesc
+getdescription
+nsok
+count
+nserrorfailure
+nsimethodimp
+nsimportservice
+getmodule
+filter
+print
+index
+nsiimportmodule
+retval
+nsprecondition
+retval
+nsnull
+ptr
+retval
+nserrornullpointer
+retval
+nsnull
+dodiscover
+mpmodules
+nserrorfailure
+index
+index
+mpmodules
+getcount
+nserrorfailure
+importmoduledesc
+pdesc
+print
+count
+print
+mpmodules
+getcount
+pdesc
+mpmodules
+getmoduledesc
+pdesc
+supportsthings
+filter
+count
+index
+retval
+pdesc
+getmodule
+count
+retval
+nserrorfailure
+nsok
+nsresult
+nsimportservice
+dodiscover
+mdiddiscovery
+nsok
+mpmodules
+nsnull
+mpmodules
+clearlist
+nsresult
+rv
+nscomptr
+nsicategorymanager
+catman
+dogetservice
+nscategorymanagercontractid
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsisimpleenumerator
+rv
+catman
+enumeratecategory
+mailnewsimport
+getteraddrefs
+nsfailed
+rv
+rv
+nscomptr
+nsisupportscstring
+contractid
+rv
+getnext
+getteraddrefs
+contractid
+nssucceeded
+rv
+contractid
+nsxpidlcstring
+contractidstr
+contractid
+tostring
+gettercopies
+contractidstr
+nsxpidlcstring
+supportsstr
+rv
+catman
+getcategoryentry
+mailnewsimport
+contractidstr
+gettercopies
+supportsstr
+nssucceeded
+rv
+loadmoduleinfo
+contractidstr
+supportsstr
+rv
+getnext
+getteraddrefs
+contractid
+mdiddiscovery
+prtrue
+nsok
+nsresult
+nsimportservice
+loadmoduleinfo
+pclsid
+psupports
+pclsid
+psupports
+nsok
+mpmodules
+nsnull
+mpmodules
+nsimportmodulelist
+nsresult
+rv
+nscomptr
+nsicomponentmanager
+compmgr
+dogetservice
+kcomponentmanagercid
+rv
+nsfailed
+rv
+rv
+nscid
+clsid
+clsid
+parse
+pclsid
+nsiimportmodule
+module
+rv
+compmgr
+createinstance
+clsid
+nsnull
+nsgetiid
+nsiimportmodule
+module
+nsfailed
+rv
+rv
+nsstring
+thetitle
+nsstring
+thedescription
+prunichar
+pname
+rv
+module
+getname
+pname
+nssucceeded
+rv
+thetitle
+pname
+nsmemory
+free
+pname
+thetitle
+assign
+nsliteralstring
+unknown
+rv
+module
+getdescription
+pname
+nssucceeded
+rv
+thedescription
+pname
+nsmemory
+free
+pname
+thedescription
+assign
+nsliteralstring
+unknown
+description
+mpmodules
+addmodule
+clsid
+psupports
+thetitle
+get
+thedescription
+get
+module
+release
+nsok
+nsiimportmodule
+importmoduledesc
+getmodule
+prbool
+keeploaded
+mpmodule
+mpmodule
+addref
+mpmodule
+nsresult
+rv
+nscomptr
+nsicomponentmanager
+compmgr
+dogetservice
+kcomponentmanagercid
+rv
+nsfailed
+rv
+nsnull
+rv
+compmgr
+createinstance
+mcid
+nsnull
+nsgetiid
+nsiimportmodule
+mpmodule
+nsfailed
+rv
+mpmodule
+nsnull
+nsnull
+keeploaded
+mpmodule
+addref
+mpmodule
+nsiimportmodule
+pmodule
+mpmodule
+mpmodule
+nsnull
+pmodule
+importmoduledesc
+releasemodule
+mpmodule
+mpmodule
+release
+mpmodule
+nsnull
+prbool
+importmoduledesc
+supportsthings
+pthings
+pthings
+prtrue
+pthings
+prtrue
+nscstring
+thing
+pthings
+nscstring
+item
+print
+idx
+idx
+thing
+findchar
+thing
+left
+item
+idx
+item
+trim
+kwhitespace
+tolowercase
+item
+item
+length
+msupports
+find
+item
+prfalse
+thing
+right
+item
+thing
+length
+idx
+thing
+item
+thing
+trim
+kwhitespace
+tolowercase
+thing
+thing
+length
+msupports
+find
+thing
+prfalse
+prtrue
+nsimportmodulelist
+clearlist
+mplist
+nsnull
+mcount
+mplist
+nsnull
+mplist
+mplist
+nsnull
+mcount
+mplist
+mplist
+nsnull
+malloc
+nsimportmodulelist
+addmodule
+nscid
+cid
+psupports
+prunichar
+pname
+prunichar
+pdesc
+mplist
+nsnull
+malloc
+mplist
+importmoduledesc
+malloc
+mcount
+memset
+mplist
+importmoduledesc
+malloc
+mcount
+malloc
+importmoduledesc
+plist
+importmoduledesc
+malloc
+memset
+plist
+malloc
+importmoduledesc
+memcpy
+plist
+mplist
+importmoduledesc
+malloc
+mcount
+mplist
+mplist
+mplist
+plist
+malloc
+mplist
+mcount
+importmoduledesc
+mplist
+mcount
+setcid
+cid
+mplist
+mcount
+setsupports
+psupports
+mplist
+mcount
+setname
+pname
+mplist
+mcount
+setdescription
+pdesc
+mcount
+ifdef
+importdebug
+nscstring
+name
+name
+assignwithconversion
+pname
+nscstring
+desc
+desc
+assignwithconversion
+pdesc
+importlog
+nsimportservice
+registered
+module
+name
+get
+desc
+get
+psupports
+endif
\ No newline at end of file
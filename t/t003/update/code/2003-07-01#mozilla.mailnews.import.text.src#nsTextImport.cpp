@@ -0,0 +1,1319 @@
+ifdef
+mozlogging
+define
+forceprlog
+endif
+nscore
+nscrt
+nsstring
+nsreadableutils
+nsiservicemanager
+nsiimportservice
+nsicomponentmanager
+nstextimport
+nsimemory
+nsiimportgeneric
+nsiimportaddressbooks
+nsiimportabdescriptor
+nsiimportfieldmap
+nsioutputstream
+nsiaddrdatabase
+nstextformatter
+nstextstringbundle
+nsistringbundle
+nstextaddress
+nsipref
+nsxpidlstring
+nsproxiedservice
+textdebuglog
+nsdefineiid
+kisupportsiid
+nsisupportsiid
+prlogmoduleinfo
+textimportlogmodule
+importaddressimpl
+nsiimportaddressbooks
+importaddressimpl
+importaddressimpl
+nsresult
+create
+nsiimportaddressbooks
+aimport
+nsdeclisupports
+nsimethod
+getsupportsmultiple
+prbool
+retval
+retval
+prfalse
+nsok
+nsimethod
+getautofind
+prunichar
+description
+prbool
+retval
+nsimethod
+getneedsfieldmap
+nsifilespec
+location
+prbool
+retval
+nsimethod
+getdefaultlocation
+nsifilespec
+location
+prbool
+found
+prbool
+userverify
+nsimethod
+findaddressbooks
+nsifilespec
+location
+nsisupportsarray
+retval
+nsimethod
+initfieldmap
+nsifilespec
+location
+nsiimportfieldmap
+fieldmap
+nsimethod
+importaddressbook
+nsiimportabdescriptor
+source
+nsiaddrdatabase
+destination
+nsiimportfieldmap
+fieldmap
+prbool
+isaddrlochome
+prunichar
+errorlog
+prunichar
+successlog
+prbool
+fatalerror
+nsimethod
+getimportprogress
+pruint
+retval
+nsimethod
+getsampledata
+print
+index
+prbool
+pfound
+prunichar
+pstr
+nsimethod
+setsamplelocation
+nsifilespec
+clearsamplefile
+savefieldmap
+nsiimportfieldmap
+pmap
+reportsuccess
+nsstring
+name
+nsstring
+pstream
+setlogs
+nsstring
+success
+nsstring
+error
+prunichar
+perror
+prunichar
+psuccess
+reporterror
+print
+errornum
+nsstring
+name
+nsstring
+pstream
+sanitizesampledata
+nscstring
+val
+nstextaddress
+mtext
+prbool
+mhavedelim
+nsifilespec
+mfileloc
+mdelim
+pruint
+mbytesimported
+nstextimport
+nstextimport
+textimportlogmodule
+textimportlogmodule
+prnewlogmodule
+import
+importlog
+nstextimport
+module
+created
+nstextstringbundle
+getstringbundle
+nstextimport
+nstextimport
+importlog
+nstextimport
+module
+deleted
+nsimplisupports
+nstextimport
+nsiimportmodule
+nsimethodimp
+nstextimport
+getname
+prunichar
+name
+nsprecondition
+name
+nsnull
+ptr
+name
+nserrornullpointer
+name
+nstextstringbundle
+getstringbyid
+textimportname
+nsok
+nsimethodimp
+nstextimport
+getdescription
+prunichar
+name
+nsprecondition
+name
+nsnull
+ptr
+name
+nserrornullpointer
+name
+nstextstringbundle
+getstringbyid
+textimportdescription
+nsok
+nsimethodimp
+nstextimport
+getsupports
+supports
+nsprecondition
+supports
+nsnull
+ptr
+supports
+nserrornullpointer
+supports
+nscrt
+strdup
+ktextsupportsstring
+nsok
+nsimethodimp
+nstextimport
+getsupportsupgrade
+prbool
+pupgrade
+nsprecondition
+pupgrade
+nsnull
+ptr
+pupgrade
+nserrornullpointer
+pupgrade
+prfalse
+nsok
+nsimethodimp
+nstextimport
+getimportinterface
+pimporttype
+nsisupports
+ppinterface
+nsprecondition
+pimporttype
+nsnull
+ptr
+pimporttype
+nserrornullpointer
+nsprecondition
+ppinterface
+nsnull
+ptr
+ppinterface
+nserrornullpointer
+ppinterface
+nsnull
+nsresult
+rv
+nscrt
+strcmp
+pimporttype
+addressbook
+nsiimportaddressbooks
+paddress
+nsnull
+nsiimportgeneric
+pgeneric
+nsnull
+rv
+importaddressimpl
+create
+paddress
+nssucceeded
+rv
+nscomptr
+nsiimportservice
+impsvc
+dogetservice
+nsimportservicecontractid
+rv
+nssucceeded
+rv
+rv
+impsvc
+createnewgenericaddressbooks
+pgeneric
+nssucceeded
+rv
+pgeneric
+setdata
+addressinterface
+paddress
+rv
+pgeneric
+queryinterface
+kisupportsiid
+ppinterface
+nsifrelease
+paddress
+nsifrelease
+pgeneric
+rv
+nserrornotavailable
+nsresult
+importaddressimpl
+create
+nsiimportaddressbooks
+aimport
+nsprecondition
+aimport
+nsnull
+ptr
+aimport
+nserrornullpointer
+aimport
+importaddressimpl
+aimport
+nserroroutofmemory
+nsaddref
+aimport
+nsok
+importaddressimpl
+importaddressimpl
+mfileloc
+nsnull
+mhavedelim
+prfalse
+importaddressimpl
+importaddressimpl
+mfileloc
+prbool
+open
+prfalse
+mfileloc
+isstreamopen
+open
+open
+mfileloc
+closestream
+nsrelease
+mfileloc
+nsimplthreadsafeisupports
+importaddressimpl
+nsiimportaddressbooks
+nsimethodimp
+importaddressimpl
+getautofind
+prunichar
+addrdescription
+prbool
+retval
+nsprecondition
+addrdescription
+nsnull
+ptr
+nsprecondition
+retval
+nsnull
+ptr
+addrdescription
+retval
+nserrornullpointer
+nsstring
+str
+retval
+prfalse
+nstextstringbundle
+getstringbyid
+textimportaddressname
+str
+addrdescription
+tonewunicode
+str
+nsok
+nsimethodimp
+importaddressimpl
+getdefaultlocation
+nsifilespec
+pploc
+prbool
+found
+prbool
+userverify
+nsprecondition
+found
+nsnull
+ptr
+nsprecondition
+pploc
+nsnull
+ptr
+nsprecondition
+userverify
+nsnull
+ptr
+found
+userverify
+pploc
+nserrornullpointer
+pploc
+nsnull
+found
+prfalse
+userverify
+prtrue
+nsok
+nsimethodimp
+importaddressimpl
+findaddressbooks
+nsifilespec
+ploc
+nsisupportsarray
+pparray
+nsprecondition
+ploc
+nsnull
+ptr
+nsprecondition
+pparray
+nsnull
+ptr
+ploc
+pparray
+nserrornullpointer
+clearsamplefile
+pparray
+nsnull
+prbool
+exists
+prfalse
+nsresult
+rv
+ploc
+exists
+exists
+nsfailed
+rv
+exists
+nserrorfailure
+prbool
+isfile
+prfalse
+rv
+ploc
+isfile
+isfile
+nsfailed
+rv
+isfile
+nserrorfailure
+rv
+mtext
+determinedelim
+ploc
+nsfailed
+rv
+importlog
+error
+determining
+delimitter
+rv
+mhavedelim
+prtrue
+mdelim
+mtext
+getdelim
+mfileloc
+ploc
+nsaddref
+mfileloc
+nscomptr
+nsisupportsarray
+array
+rv
+nsnewisupportsarray
+getteraddrefs
+array
+nsfailed
+rv
+importlog
+failed
+to
+allocate
+the
+nsisupportsarray
+rv
+nscomptr
+nsiimportservice
+impsvc
+dogetservice
+nsimportservicecontractid
+rv
+nsfailed
+rv
+importlog
+failed
+to
+obtain
+the
+service
+rv
+nsxpidlcstring
+pname
+rv
+ploc
+getleafname
+gettercopies
+pname
+nsfailed
+rv
+importlog
+failed
+getting
+leaf
+name
+of
+file
+rv
+nsstring
+name
+rv
+impsvc
+systemstringtounicode
+pname
+name
+nsfailed
+rv
+name
+assignwithconversion
+pname
+print
+idx
+name
+rfindchar
+idx
+idx
+name
+length
+idx
+nsstring
+name
+left
+idx
+name
+nscomptr
+nsiimportabdescriptor
+desc
+nsisupports
+pinterface
+rv
+impsvc
+createnewabdescriptor
+getteraddrefs
+desc
+nssucceeded
+rv
+pruint
+sz
+ploc
+getfilesize
+sz
+desc
+setpreferredname
+name
+get
+desc
+setsize
+sz
+nsifilespec
+pspec
+nsnull
+desc
+getfilespec
+pspec
+pspec
+pspec
+fromfilespec
+ploc
+nsrelease
+pspec
+rv
+desc
+queryinterface
+kisupportsiid
+pinterface
+array
+appendelement
+pinterface
+pinterface
+release
+nsfailed
+rv
+importlog
+error
+creating
+address
+book
+descriptor
+text
+rv
+array
+queryinterface
+nsgetiid
+nsisupportsarray
+pparray
+rv
+importaddressimpl
+reportsuccess
+nsstring
+name
+nsstring
+pstream
+pstream
+nsistringbundle
+pbundle
+nstextstringbundle
+getstringbundleproxy
+prunichar
+pfmt
+nstextstringbundle
+getstringbyid
+textimportaddresssuccess
+pbundle
+prunichar
+ptext
+nstextformatter
+smprintf
+pfmt
+name
+get
+pstream
+append
+ptext
+nstextformatter
+smprintffree
+ptext
+nstextstringbundle
+freestring
+pfmt
+pstream
+append
+prunichar
+nscrt
+lf
+nsifrelease
+pbundle
+importaddressimpl
+reporterror
+print
+errornum
+nsstring
+name
+nsstring
+pstream
+pstream
+nsistringbundle
+pbundle
+nstextstringbundle
+getstringbundleproxy
+prunichar
+pfmt
+nstextstringbundle
+getstringbyid
+errornum
+pbundle
+prunichar
+ptext
+nstextformatter
+smprintf
+pfmt
+name
+get
+pstream
+append
+ptext
+nstextformatter
+smprintffree
+ptext
+nstextstringbundle
+freestring
+pfmt
+pstream
+append
+prunichar
+nscrt
+lf
+nsifrelease
+pbundle
+importaddressimpl
+setlogs
+nsstring
+success
+nsstring
+error
+prunichar
+perror
+prunichar
+psuccess
+perror
+perror
+tonewunicode
+error
+psuccess
+psuccess
+tonewunicode
+success
+nsimethodimp
+importaddressimpl
+importaddressbook
+nsiimportabdescriptor
+psource
+nsiaddrdatabase
+pdestination
+nsiimportfieldmap
+fieldmap
+prbool
+isaddrlochome
+prunichar
+perrorlog
+prunichar
+psuccesslog
+prbool
+fatalerror
+nsprecondition
+psource
+nsnull
+ptr
+nsprecondition
+pdestination
+nsnull
+ptr
+nsprecondition
+fatalerror
+nsnull
+ptr
+nscomptr
+nsistringbundle
+bundle
+dontaddref
+nstextstringbundle
+getstringbundleproxy
+mbytesimported
+nsstring
+success
+nsstring
+error
+psource
+pdestination
+fatalerror
+importlog
+bad
+param
+passed
+to
+text
+address
+nstextstringbundle
+getstringbyid
+textimportaddressbadparam
+error
+bundle
+fatalerror
+fatalerror
+prtrue
+setlogs
+success
+error
+perrorlog
+psuccesslog
+nserrornullpointer
+clearsamplefile
+prbool
+addrabort
+prfalse
+nsstring
+name
+prunichar
+pname
+nssucceeded
+psource
+getpreferredname
+pname
+name
+pname
+nscrt
+free
+pname
+pruint
+addresssize
+psource
+getsize
+addresssize
+addresssize
+importlog
+address
+book
+size
+is
+skipping
+reportsuccess
+name
+success
+setlogs
+success
+error
+perrorlog
+psuccesslog
+nsok
+nsifilespec
+infile
+nsfailed
+psource
+getfilespec
+infile
+reporterror
+textimportaddressbadsourcefile
+name
+error
+setlogs
+success
+error
+perrorlog
+psuccesslog
+nserrorfailure
+nsxpidlcstring
+ppath
+infile
+getnativepath
+gettercopies
+ppath
+importlog
+importing
+address
+book
+ppath
+get
+nsresult
+rv
+nsok
+prbool
+isldif
+prfalse
+rv
+nstextaddress
+isldiffile
+infile
+isldif
+nsfailed
+rv
+infile
+release
+reporterror
+textimportaddressconverterror
+name
+error
+setlogs
+success
+error
+perrorlog
+psuccesslog
+rv
+isldif
+rv
+mtext
+importldif
+addrabort
+name
+get
+infile
+pdestination
+error
+mbytesimported
+rv
+mtext
+importaddresses
+addrabort
+name
+get
+infile
+pdestination
+fieldmap
+error
+mbytesimported
+savefieldmap
+fieldmap
+infile
+release
+nssucceeded
+rv
+error
+isempty
+reportsuccess
+name
+success
+reporterror
+textimportaddressconverterror
+name
+error
+setlogs
+success
+error
+perrorlog
+psuccesslog
+importlog
+text
+address
+done
+rv
+nsimethodimp
+importaddressimpl
+getimportprogress
+pruint
+retval
+nsensureargpointer
+retval
+retval
+mbytesimported
+nsok
+nsimethodimp
+importaddressimpl
+getneedsfieldmap
+nsifilespec
+location
+prbool
+retval
+nsensureargpointer
+retval
+nsensureargpointer
+location
+retval
+prtrue
+prbool
+exists
+prfalse
+prbool
+isfile
+prfalse
+nsresult
+rv
+location
+exists
+exists
+rv
+location
+isfile
+isfile
+exists
+isfile
+nserrorfailure
+prbool
+isldif
+prfalse
+rv
+nstextaddress
+isldiffile
+location
+isldif
+nsfailed
+rv
+importlog
+error
+determining
+file
+is
+of
+type
+ldif
+rv
+isldif
+retval
+prfalse
+nsok
+importaddressimpl
+sanitizesampledata
+nscstring
+val
+val
+replacesubstring
+xd
+xa
+val
+replacechar
+val
+replacechar
+nsimethodimp
+importaddressimpl
+getsampledata
+print
+index
+prbool
+pfound
+prunichar
+pstr
+nsprecondition
+pfound
+nsnull
+ptr
+nsprecondition
+pstr
+nsnull
+ptr
+pfound
+pstr
+nserrornullpointer
+mfileloc
+importlog
+error
+called
+getsampledata
+before
+setsamplelocation
+nserrorfailure
+nsresult
+rv
+pstr
+nsnull
+prbool
+open
+prfalse
+prunichar
+term
+mhavedelim
+rv
+mfileloc
+isstreamopen
+open
+open
+mfileloc
+closestream
+open
+prfalse
+rv
+mtext
+determinedelim
+mfileloc
+nsfailed
+rv
+rv
+mhavedelim
+prtrue
+mdelim
+mtext
+getdelim
+rv
+mfileloc
+isstreamopen
+open
+open
+rv
+mfileloc
+openstreamforreading
+nsfailed
+rv
+pfound
+prfalse
+pstr
+nscrt
+strdup
+term
+nsok
+print
+linelen
+print
+bufsz
+pline
+bufsz
+nscomptr
+nsiimportservice
+impsvc
+dogetservice
+nsimportservicecontractid
+rv
+rv
+nstextaddress
+readrecordnumber
+mfileloc
+pline
+bufsz
+mdelim
+linelen
+index
+nssucceeded
+rv
+nsstring
+str
+nscstring
+field
+nsstring
+ufield
+print
+fnum
+nstextaddress
+getfield
+pline
+linelen
+fnum
+field
+mdelim
+fnum
+str
+append
+nsliteralstring
+sanitizesampledata
+field
+impsvc
+impsvc
+systemstringtounicode
+field
+get
+ufield
+ufield
+assignwithconversion
+field
+get
+str
+append
+ufield
+fnum
+field
+truncate
+pstr
+nscrt
+strdup
+str
+get
+pfound
+prtrue
+pfound
+prfalse
+pstr
+nscrt
+strdup
+term
+pline
+nsok
+nsimethodimp
+importaddressimpl
+setsamplelocation
+nsifilespec
+plocation
+nsifrelease
+mfileloc
+mhavedelim
+prfalse
+mfileloc
+plocation
+nsifaddref
+mfileloc
+nsok
+importaddressimpl
+clearsamplefile
+mfileloc
+prbool
+open
+prfalse
+mfileloc
+isstreamopen
+open
+open
+mfileloc
+closestream
+nsrelease
+mfileloc
+mfileloc
+nsnull
+mhavedelim
+prfalse
+nsimethodimp
+importaddressimpl
+initfieldmap
+nsifilespec
+location
+nsiimportfieldmap
+fieldmap
+nsresult
+rv
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nssucceeded
+rv
+nsxpidlcstring
+prefstr
+rv
+prefs
+copycharpref
+mailnews
+text
+fieldmap
+gettercopies
+prefstr
+nssucceeded
+rv
+pstr
+prefstr
+pstr
+fieldmap
+setfieldmapsize
+fnum
+prbool
+active
+findex
+pstr
+pstr
+pstr
+pstr
+pstr
+pstr
+active
+prtrue
+pstr
+active
+prfalse
+fnum
+pstr
+pstr
+pstr
+pstr
+pstr
+pstr
+pstr
+pstr
+fnum
+fnum
+pstr
+pstr
+pstr
+pstr
+pstr
+pstr
+pstr
+fieldmap
+setfieldmap
+fnum
+fieldmap
+setfieldactive
+findex
+active
+findex
+findex
+num
+fieldmap
+getnummozfields
+num
+fieldmap
+defaultfieldmap
+num
+nsok
+importaddressimpl
+savefieldmap
+nsiimportfieldmap
+pmap
+pmap
+size
+index
+prbool
+active
+nscstring
+str
+pmap
+getmapsize
+size
+size
+index
+active
+prfalse
+pmap
+getfieldmap
+index
+pmap
+getfieldactive
+active
+active
+str
+append
+str
+append
+str
+appendint
+index
+str
+append
+prbool
+done
+prfalse
+nsresult
+rv
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nssucceeded
+rv
+nsxpidlcstring
+prefstr
+rv
+prefs
+copycharpref
+mailnews
+text
+fieldmap
+gettercopies
+prefstr
+nssucceeded
+rv
+str
+equals
+prefstr
+done
+prtrue
+done
+rv
+prefs
+setcharpref
+mailnews
+text
+fieldmap
+str
+get
\ No newline at end of file
@@ -0,0 +1,187 @@
+msgcore
+nsimodule
+nsigenericfactory
+nsmsglocalcid
+nsmailboxurl
+nspopurl
+nsmailboxservice
+nslocalmailfolder
+nsparsemailbox
+nspopservice
+ifdef
+havemovemail
+nsmovemailservice
+nsmovemailincomingserver
+endif
+nsnoneservice
+nspopincomingserver
+nsnoincomingserver
+nslocalstringbundle
+nscomptr
+nsgenericfactoryconstructor
+nsmailboxurl
+nsgenericfactoryconstructor
+nspopurl
+nsgenericfactoryconstructor
+nsmsgmailboxparser
+nsgenericfactoryconstructor
+nsmailboxservice
+nsgenericfactoryconstructor
+nspopservice
+ifdef
+havemovemail
+nsgenericfactoryconstructor
+nsmovemailservice
+endif
+nsgenericfactoryconstructor
+nsnoneservice
+nsgenericfactoryconstructor
+nsmsglocalmailfolder
+nsgenericfactoryconstructor
+nsparsemailmessagestate
+nsgenericfactoryconstructor
+nspopincomingserver
+ifdef
+havemovemail
+nsgenericfactoryconstructor
+nsmovemailincomingserver
+endif
+nsgenericfactoryconstructor
+nsnoincomingserver
+nsgenericfactoryconstructor
+nslocalstringservice
+nsmodulecomponentinfo
+gcomponents
+mailbox
+url
+nsmailboxurlcid
+nsmailboxurlcontractid
+nsmailboxurlconstructor
+mailbox
+service
+nsmailboxservicecid
+nsmailboxservicecontractid
+nsmailboxserviceconstructor
+mailbox
+service
+nsmailboxservicecid
+nsmailboxservicecontractid
+nsmailboxserviceconstructor
+mailbox
+service
+nsmailboxservicecid
+nsmailboxservicecontractid
+nsmailboxserviceconstructor
+mailbox
+protocol
+handler
+nsmailboxservicecid
+nsmailboxservicecontractid
+nsmailboxserviceconstructor
+mailbox
+parser
+nsmailboxparsercid
+nsmailboxparsercontractid
+nsmsgmailboxparserconstructor
+pop
+url
+nspopurlcid
+nspopurlcontractid
+nspopurlconstructor
+pop
+service
+nspopservicecid
+nspopservicecontractid
+nspopserviceconstructor
+pop
+protocol
+handler
+nspopservicecid
+nspopservicecontractid
+nspopserviceconstructor
+none
+service
+nsnoneservicecid
+nsnoneservicecontractid
+nsnoneserviceconstructor
+ifdef
+havemovemail
+movemail
+service
+nsmovemailservicecid
+nsmovemailservicecontractid
+nsmovemailserviceconstructor
+endif
+pop
+protocol
+information
+nspopservicecid
+nspopprotocolinfocontractid
+nspopserviceconstructor
+none
+protocol
+information
+nsnoneservicecid
+nsnoneprotocolinfocontractid
+nsnoneserviceconstructor
+ifdef
+havemovemail
+movemail
+protocol
+information
+nsmovemailservicecid
+nsmovemailprotocolinfocontractid
+nsmovemailserviceconstructor
+endif
+local
+mail
+folder
+resource
+factory
+nslocalmailfolderresourcecid
+nslocalmailfolderresourcecontractid
+nsmsglocalmailfolderconstructor
+pop
+incoming
+server
+nspopincomingservercid
+nspopincomingservercontractid
+nspopincomingserverconstructor
+ifdef
+havemovemail
+movemail
+incoming
+server
+nsmovemailincomingservercid
+nsmovemailincomingservercontractid
+nsmovemailincomingserverconstructor
+endif
+no
+incoming
+server
+nsnoincomingservercid
+nsnoincomingservercontractid
+nsnoincomingserverconstructor
+parse
+mailmessage
+state
+nsparsemailmsgstatecid
+nsparsemailmsgstatecontractid
+nsparsemailmessagestateconstructor
+mailbox
+string
+bundle
+service
+nsmsglocalstringservicecid
+nsmsgmailboxstringservicecontractid
+nslocalstringserviceconstructor
+pop
+string
+bundle
+service
+nsmsglocalstringservicecid
+nsmsgpopstringservicecontractid
+nslocalstringserviceconstructor
+nsimplnsgetmodule
+localmailservices
+gcomponents
\ No newline at end of file
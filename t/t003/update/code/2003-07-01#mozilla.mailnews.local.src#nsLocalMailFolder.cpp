@@ -0,0 +1,6351 @@
+nsipref
+prlog
+msgcore
+nslocalmailfolder
+nsmsglocalfolderhdrs
+nsmsgfolderflags
+nsmsgmessageflags
+prprf
+nsisupportsarray
+nsiservicemanager
+nsienumerator
+nsimailboxservice
+nsparsemailbox
+nsimsgaccountmanager
+nsimsgwindow
+nscomptr
+nsirdfservice
+nsirdfdatasource
+nsrdfcid
+nsfilestream
+nsmsgdbcid
+nsmsgutils
+nslocalutils
+nsipopincomingserver
+nsilocalmailincomingserver
+nsimsgincomingserver
+nsmsgbasecid
+nsmsglocalcid
+nsstring
+nsimsgfoldercacheelement
+nsreadableutils
+nsunicharutils
+nslocalfoldersummaryspec
+nsmsgutils
+nsicopymsgstreamlistener
+nsimsgcopyservice
+nslocalundotxn
+nsmsgtxn
+nsifilespec
+nsimessenger
+nsmsgbasecid
+nsmsgin
+nsidocshell
+nsiprompt
+nsiinterfacerequestor
+nsiinterfacerequestorutils
+nsipopurl
+nsimsgmailsession
+nsimsgfoldercompactor
+nsnetcid
+nsescape
+nslocalstringbundle
+nsimsgmailnewsurl
+nsispamsettings
+nsdefinecid
+kmailboxservicecid
+nsmailboxservicecid
+nsdefinecid
+kcmaildb
+nsmaildbcid
+readpopdata
+hostname
+username
+nsifilespec
+maildirectory
+savepopdata
+data
+nsifilespec
+maildirectory
+netpopmarkifinserver
+data
+uidl
+prbool
+deletechar
+prbool
+changed
+killpopdata
+data
+nslocalmailcopystate
+nslocalmailcopystate
+mfilestream
+nsnull
+mcurdstkey
+xffffffff
+mcurcopyindex
+mtotalmsgcount
+mdatabuffersize
+mleftover
+mismove
+prfalse
+mdummyenvelopeneeded
+prfalse
+mfromlineseen
+prfalse
+mwritefailed
+prfalse
+mnotifyfolderloaded
+prfalse
+nslocalmailcopystate
+nslocalmailcopystate
+prfree
+mdatabuffer
+mfilestream
+mfilestream
+isopen
+mfilestream
+close
+mfilestream
+mmessageservice
+nscomptr
+nsimsgfolder
+srcfolder
+doqueryinterface
+msrcsupport
+srcfolder
+mmessage
+nsxpidlcstring
+uri
+srcfolder
+geturiformsg
+mmessage
+gettercopies
+uri
+nsmsglocalmailfolder
+nsmsglocalmailfolder
+mhavereadnamefromdb
+prfalse
+mgettingmail
+prfalse
+minitialized
+prfalse
+mcopystate
+nsnull
+mtype
+nsnull
+mcheckfornewmessagesafterparsing
+prfalse
+mnumfilterclassifyrequests
+nsmsglocalmailfolder
+nsmsglocalmailfolder
+nsimpladdrefinherited
+nsmsglocalmailfolder
+nsmsgfolder
+nsimplreleaseinherited
+nsmsglocalmailfolder
+nsmsgfolder
+nsimplqueryinterfaceinherited
+nsmsglocalmailfolder
+nsmsgdbfolder
+nsicopymessagelistener
+nsimsglocalmailfolder
+nsijunkmailclassificationlistener
+prbool
+nsstringendswith
+nsstring
+name
+ending
+ending
+prfalse
+print
+len
+name
+length
+len
+prfalse
+print
+endinglen
+strlen
+ending
+len
+endinglen
+name
+rfind
+ending
+prtrue
+len
+endinglen
+prtrue
+prfalse
+prbool
+nsshouldignorefile
+nsstring
+name
+prunichar
+firstchar
+name
+charat
+firstchar
+firstchar
+name
+charat
+name
+length
+prtrue
+name
+equalsignorecase
+msgfilterrules
+dat
+name
+equalsignorecase
+rules
+dat
+name
+equalsignorecase
+filterlog
+html
+name
+equalsignorecase
+junklog
+html
+name
+equalsignorecase
+rulesbackup
+dat
+prtrue
+nsstringendswith
+name
+snm
+name
+equalsignorecase
+popstate
+dat
+name
+equalsignorecase
+sort
+dat
+name
+equalsignorecase
+mailfilt
+log
+name
+equalsignorecase
+filters
+js
+nsstringendswith
+name
+toc
+prtrue
+nsstringendswith
+name
+sbd
+nsstringendswith
+name
+msf
+prtrue
+prfalse
+nsimethodimp
+nsmsglocalmailfolder
+init
+auri
+nsresult
+rv
+rv
+nsmsgdbfolder
+init
+auri
+nsfailed
+rv
+rv
+rv
+nsresult
+nsmsglocalmailfolder
+createsubfolders
+nsfilespec
+path
+nsresult
+rv
+nsok
+nsautostring
+currentfoldernamestr
+nscomptr
+nsimsgfolder
+child
+nsdirectoryiterator
+dir
+path
+prfalse
+dir
+exists
+dir
+nsfilespec
+currentfolderpath
+dir
+spec
+leafname
+currentfolderpath
+getleafname
+nsmsggetnativepathstring
+leafname
+currentfoldernamestr
+prfree
+leafname
+nsshouldignorefile
+currentfoldernamestr
+rv
+addsubfolder
+currentfoldernamestr
+getteraddrefs
+child
+child
+nsxpidlstring
+foldername
+child
+getname
+gettercopies
+foldername
+foldername
+isempty
+child
+setprettyname
+currentfoldernamestr
+get
+rv
+nsimethodimp
+nsmsglocalmailfolder
+addsubfolder
+nsautostring
+name
+nsimsgfolder
+child
+nsensureargpointer
+child
+print
+flags
+nsresult
+rv
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+rdf
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nscautostring
+uri
+muri
+uri
+append
+nsxpidlcstring
+escapedname
+rv
+nsmsgescapeencodeurlpath
+name
+get
+gettercopies
+escapedname
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgfolder
+rootfolder
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nssucceeded
+rv
+rootfolder
+rootfolder
+get
+nsimsgfolder
+nscrt
+strcasecmp
+escapedname
+get
+inbox
+uri
+inbox
+nscrt
+strcasecmp
+escapedname
+get
+unsent
+messages
+uri
+unsent
+messages
+nscrt
+strcasecmp
+escapedname
+get
+drafts
+uri
+drafts
+nscrt
+strcasecmp
+escapedname
+get
+trash
+uri
+trash
+nscrt
+strcasecmp
+escapedname
+get
+sent
+uri
+sent
+nscrt
+strcasecmp
+escapedname
+get
+templates
+uri
+templates
+uri
+escapedname
+get
+uri
+escapedname
+get
+nscomptr
+nsimsgfolder
+msgfolder
+rv
+getchildwithuri
+uri
+get
+prfalse
+prtrue
+getteraddrefs
+msgfolder
+nssucceeded
+rv
+msgfolder
+nsmsgfolderexists
+nscomptr
+nsirdfresource
+res
+rv
+rdf
+getresource
+uri
+getteraddrefs
+res
+nsfailed
+rv
+rv
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+res
+rv
+nsfailed
+rv
+rv
+folder
+getflags
+pruint
+flags
+flags
+msgfolderflagmail
+folder
+setparent
+prbool
+isserver
+rv
+getisserver
+isserver
+nssucceeded
+rv
+isserver
+name
+equals
+nsliteralstring
+inbox
+nscaseinsensitivestringcomparator
+flags
+msgfolderflaginbox
+setbiffstate
+nsimsgfolder
+nsmsgbiffstateunknown
+name
+equals
+nsliteralstring
+trash
+nscaseinsensitivestringcomparator
+flags
+msgfolderflagtrash
+name
+equals
+nsliteralstring
+unsent
+messages
+nscaseinsensitivestringcomparator
+name
+equals
+nsliteralstring
+outbox
+nscaseinsensitivestringcomparator
+flags
+msgfolderflagqueue
+name
+equalsignorecase
+nsliteralstring
+sent
+nscaseinsensitivestringcomparator
+folder
+setflag
+msgfolderflagsentmail
+name
+equalsignorecase
+nsliteralstring
+drafts
+nscaseinsensitivestringcomparator
+folder
+setflag
+msgfolderflagdrafts
+name
+equalsignorecase
+nsliteralstring
+templates
+nscaseinsensitivestringcomparator
+folder
+setflag
+msgfolderflagtemplates
+endif
+folder
+setflags
+flags
+rv
+nsok
+nscomptr
+nsisupports
+supports
+doqueryinterface
+folder
+folder
+msubfolders
+appendelement
+supports
+child
+folder
+nsaddref
+child
+rv
+nsimethodimp
+nsmsglocalmailfolder
+getmanyheaderstodownload
+prbool
+retval
+prbool
+islocked
+getlocked
+islocked
+islocked
+retval
+prtrue
+nsok
+nsmsgdbfolder
+getmanyheaderstodownload
+retval
+nsimethodimp
+nsmsglocalmailfolder
+parsefolder
+nsimsgwindow
+amsgwindow
+nsiurllistener
+listener
+nsresult
+rv
+nsok
+nscomptr
+nsifilespec
+pathspec
+rv
+getpath
+getteraddrefs
+pathspec
+nsfailed
+rv
+rv
+nsfilespec
+path
+rv
+pathspec
+getfilespec
+path
+nsfailed
+rv
+rv
+nscomptr
+nsimailboxservice
+mailboxservice
+dogetservice
+kmailboxservicecid
+rv
+nsfailed
+rv
+rv
+nsmsgmailboxparser
+parser
+nsmsgmailboxparser
+parser
+nserroroutofmemory
+prbool
+islocked
+nscomptr
+nsisupports
+supports
+doqueryinterface
+nsstaticcast
+nsimsgparsemailmsgstate
+parser
+getlocked
+islocked
+islocked
+acquiresemaphore
+supports
+nsassertion
+prfalse
+could
+get
+folder
+lock
+nsmsgfolderbusy
+rv
+mailboxservice
+parsemailbox
+amsgwindow
+path
+parser
+listener
+nsnull
+rv
+nsimethodimp
+nsmsglocalmailfolder
+getdatabaseworeparse
+nsimsgdatabase
+adatabase
+nsresult
+rv
+nsok
+nsensurearg
+adatabase
+mdatabase
+nscomptr
+nsifilespec
+destifolderspec
+rv
+getpath
+getteraddrefs
+destifolderspec
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgdatabase
+maildbfactory
+rv
+nscomponentmanager
+createinstance
+kcmaildb
+nsnull
+nsgetiid
+nsimsgdatabase
+getteraddrefs
+maildbfactory
+nssucceeded
+rv
+maildbfactory
+rv
+maildbfactory
+openfolderdb
+prfalse
+prfalse
+nsimsgdatabase
+getteraddrefs
+mdatabase
+mdatabase
+nssucceeded
+rv
+mdatabase
+addlistener
+adatabase
+mdatabase
+nsifaddref
+adatabase
+rv
+nsimethodimp
+nsmsglocalmailfolder
+enumerate
+nsienumerator
+result
+nsresult
+rv
+nscomptr
+nsienumerator
+folders
+nscomptr
+nsienumerator
+messages
+rv
+getsubfolders
+getteraddrefs
+folders
+nsfailed
+rv
+rv
+rv
+getmessages
+nsnull
+getteraddrefs
+messages
+nsfailed
+rv
+rv
+nsnewconjoiningenumerator
+folders
+messages
+nsibidirectionalenumerator
+result
+endif
+nsassertion
+prfalse
+isn
+obsolete
+nserrorfailure
+nsresult
+nsmsglocalmailfolder
+adddirectoryseparator
+nsfilespec
+path
+nsautostring
+sep
+nsresult
+rv
+nsgetmailfolderseparator
+sep
+nsfailed
+rv
+rv
+nscautostring
+str
+path
+getnativepathcstring
+str
+appendwithconversion
+sep
+path
+str
+get
+rv
+nsimethodimp
+nsmsglocalmailfolder
+getsubfolders
+nsienumerator
+result
+prbool
+isserver
+nsresult
+rv
+getisserver
+isserver
+minitialized
+nscomptr
+nsifilespec
+pathspec
+rv
+getpath
+getteraddrefs
+pathspec
+nsfailed
+rv
+rv
+nsfilespec
+path
+rv
+pathspec
+getfilespec
+path
+nsfailed
+rv
+rv
+path
+isdirectory
+adddirectoryseparator
+path
+minitialized
+prtrue
+print
+newflags
+msgfolderflagmail
+path
+isdirectory
+newflags
+msgfolderflagdirectory
+msgfolderflagelided
+setflag
+newflags
+prbool
+createddefaultmailboxes
+prfalse
+nscomptr
+nsilocalmailincomingserver
+localmailserver
+isserver
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserver
+getteraddrefs
+server
+nsfailed
+rv
+rv
+server
+nsmsginvalidormissingserver
+localmailserver
+doqueryinterface
+server
+rv
+nsfailed
+rv
+rv
+localmailserver
+nsmsginvalidormissingserver
+nscomptr
+nsifilespec
+spec
+rv
+nsnewfilespecwithspec
+path
+getteraddrefs
+spec
+nsfailed
+rv
+rv
+rv
+localmailserver
+createdefaultmailboxes
+spec
+nsensuresuccess
+rv
+rv
+nsfailed
+rv
+rv
+createddefaultmailboxes
+prtrue
+rv
+createsubfolders
+path
+nsfailed
+rv
+rv
+setprefflag
+createddefaultmailboxes
+isserver
+nscomptr
+nsifolder
+rootfolder
+rv
+localmailserver
+setflagsondefaultmailboxes
+nsfailed
+rv
+rv
+pruint
+cnt
+rv
+msubfolders
+count
+cnt
+nssucceeded
+rv
+nscomptr
+nsienumerator
+enumerator
+pruint
+cnt
+nscomptr
+nsimsgfolder
+folder
+doqueryelementat
+msubfolders
+rv
+folder
+nssucceeded
+rv
+rv
+folder
+getsubfolders
+getteraddrefs
+enumerator
+nsassertion
+nssucceeded
+rv
+getsubfolders
+failed
+updatesummarytotals
+prfalse
+rv
+msubfolders
+enumerate
+result
+rv
+nsimethodimp
+nsmsglocalmailfolder
+addunique
+nsisupports
+element
+prassert
+nserrornotimplemented
+nsimethodimp
+nsmsglocalmailfolder
+replaceelement
+nsisupports
+element
+nsisupports
+newelement
+prassert
+nserrornotimplemented
+nsresult
+nsmsglocalmailfolder
+getdatabase
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+nsok
+mdatabase
+nscomptr
+nsifilespec
+pathspec
+rv
+getpath
+getteraddrefs
+pathspec
+nsfailed
+rv
+rv
+prbool
+exists
+rv
+pathspec
+exists
+exists
+nsensuresuccess
+rv
+rv
+exists
+nserrornullpointer
+nsresult
+folderopen
+nsok
+nscomptr
+nsimsgdatabase
+maildbfactory
+rv
+nscomponentmanager
+createinstance
+kcmaildb
+nsnull
+nsgetiid
+nsimsgdatabase
+getteraddrefs
+maildbfactory
+nssucceeded
+rv
+maildbfactory
+folderopen
+maildbfactory
+openfolderdb
+prtrue
+prfalse
+getteraddrefs
+mdatabase
+nsfailed
+folderopen
+folderopen
+nsmsgerrorfoldersummaryoutofdate
+folderopen
+nsmsgerrorfoldersummarymissing
+nscomptr
+nsidbfolderinfo
+dbfolderinfo
+nscomptr
+nsidbfolderinfo
+transferinfo
+mdatabase
+mdatabase
+getdbfolderinfo
+getteraddrefs
+dbfolderinfo
+dbfolderinfo
+folderopen
+nsmsgerrorfoldersummarymissing
+dbfolderinfo
+setflags
+mflags
+dbfolderinfo
+gettransferinfo
+getteraddrefs
+transferinfo
+dbfolderinfo
+nsnull
+nsfailed
+rv
+maildbfactory
+openfolderdb
+prtrue
+prtrue
+getteraddrefs
+mdatabase
+rv
+transferinfo
+mdatabase
+setdbtransferinfo
+transferinfo
+mdatabase
+maddlistener
+mdatabase
+addlistener
+folderopen
+nsmsgerrorfoldersummarymissing
+folderopen
+nsmsgerrorfoldersummaryoutofdate
+nsfailed
+rv
+parsefolder
+amsgwindow
+rv
+nsmsgfolderbusy
+mdatabase
+removelistener
+mdatabase
+nsnull
+throwalertmsg
+parsingfolderfailed
+amsgwindow
+rv
+nserrornotinitialized
+notifyfolderevent
+mfolderloadedatom
+updatesummarytotals
+prtrue
+rv
+nsimethodimp
+nsmsglocalmailfolder
+updatefolder
+nsimsgwindow
+awindow
+refreshsizeondisk
+nsresult
+rv
+mdatabase
+rv
+getdatabase
+awindow
+prbool
+valid
+rv
+mdatabase
+getsummaryvalid
+valid
+nssucceeded
+rv
+valid
+notifyfolderevent
+mfolderloadedatom
+rv
+autocompact
+awindow
+nsensuresuccess
+rv
+rv
+mcopystate
+mcopystate
+mnotifyfolderloaded
+prtrue
+nssucceeded
+rv
+mflags
+msgfolderflaggotnew
+callfilterplugins
+awindow
+rv
+nsimethodimp
+nsmsglocalmailfolder
+getmessages
+nsimsgwindow
+amsgwindow
+nsisimpleenumerator
+result
+nsresult
+rv
+getdatabase
+amsgwindow
+nssucceeded
+rv
+mdatabase
+enumeratemessages
+result
+rv
+nsimethodimp
+nsmsglocalmailfolder
+getfolderurl
+url
+urlscheme
+mailbox
+url
+nserrornullpointer
+nsresult
+rv
+nscomptr
+nsifilespec
+pathspec
+rv
+getpath
+getteraddrefs
+pathspec
+nsfailed
+rv
+rv
+nsfilespec
+path
+rv
+pathspec
+getfilespec
+path
+nsfailed
+rv
+rv
+nscautostring
+tmppath
+nsfilepath
+path
+nscautostring
+urlstr
+urlscheme
+urlstr
+append
+tmppath
+url
+tonewcstring
+urlstr
+nsok
+nsresult
+nsmsglocalmailfolder
+createdirectoryforfolder
+nsfilespec
+path
+nsresult
+rv
+nsok
+nscomptr
+nsifilespec
+pathspec
+rv
+getpath
+getteraddrefs
+pathspec
+nsfailed
+rv
+rv
+rv
+pathspec
+getfilespec
+path
+nsfailed
+rv
+rv
+path
+isdirectory
+rv
+adddirectoryseparator
+path
+nsfailed
+rv
+rv
+path
+isdirectory
+path
+exists
+nsmsgcouldnotcreatedirectory
+path
+createdirectory
+path
+isdirectory
+nsmsgcouldnotcreatedirectory
+rv
+nsimethodimp
+nsmsglocalmailfolder
+createstorageifmissing
+nsiurllistener
+aurllistener
+nsresult
+rv
+nsok
+nscomptr
+nsimsgfolder
+msgparent
+getparentmsgfolder
+getteraddrefs
+msgparent
+msgparent
+nscautostring
+foldername
+muri
+nscautostring
+uri
+print
+leafpos
+foldername
+rfindchar
+nscautostring
+parentname
+foldername
+leafpos
+parentname
+truncate
+leafpos
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+rdf
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+resource
+rv
+rdf
+getresource
+parentname
+getteraddrefs
+resource
+nsensuresuccess
+rv
+rv
+msgparent
+doqueryinterface
+resource
+rv
+nsensuresuccess
+rv
+rv
+msgparent
+nsxpidlstring
+foldername
+getname
+gettercopies
+foldername
+rv
+msgparent
+createsubfolder
+foldername
+nsnull
+rv
+nsresult
+nsmsglocalmailfolder
+checkiffolderexists
+prunichar
+newfoldername
+nsimsgfolder
+parentfolder
+nsimsgwindow
+msgwindow
+nsensureargpointer
+newfoldername
+nsensureargpointer
+parentfolder
+nscomptr
+nsienumerator
+subfolders
+nsresult
+rv
+parentfolder
+getsubfolders
+getteraddrefs
+subfolders
+nsensuresuccess
+rv
+rv
+rv
+subfolders
+first
+nssucceeded
+rv
+nscomptr
+nsisupports
+supports
+subfolders
+currentitem
+getteraddrefs
+supports
+nscomptr
+nsimsgfolder
+msgfolder
+doqueryinterface
+supports
+nsautostring
+foldernamestring
+prunichar
+foldername
+msgfolder
+msgfolder
+getname
+foldername
+foldernamestring
+adopt
+foldername
+foldernamestring
+equals
+newfoldername
+nscaseinsensitivestringcomparator
+msgwindow
+throwalertmsg
+folderexists
+msgwindow
+nsmsgfolderexists
+rv
+subfolders
+next
+nsok
+nsresult
+nsmsglocalmailfolder
+createsubfolder
+prunichar
+foldername
+nsimsgwindow
+msgwindow
+nsresult
+rv
+checkiffolderexists
+foldername
+msgwindow
+nsfailed
+rv
+rv
+nsfilespec
+path
+nscomptr
+nsimsgfolder
+child
+rv
+createdirectoryforfolder
+path
+nsfailed
+rv
+rv
+nsxpidlcstring
+nativefoldername
+rv
+convertfromunicode
+nsmsginfilesystemcharset
+nsautostring
+foldername
+gettercopies
+nativefoldername
+nsfailed
+rv
+nativefoldername
+isempty
+throwalertmsg
+foldercreationfailed
+msgwindow
+nsmsgfolderexists
+nscautostring
+safefoldername
+safefoldername
+assign
+nativefoldername
+get
+nsmsghashifnecessary
+safefoldername
+path
+safefoldername
+get
+path
+exists
+throwalertmsg
+folderexists
+msgwindow
+nsmsgfolderexists
+nsoutputfilestream
+outputstream
+path
+prwronly
+prcreatefile
+outputstream
+isopen
+outputstream
+flush
+outputstream
+close
+nsautostring
+foldernamestr
+foldername
+rv
+addsubfolder
+foldernamestr
+getteraddrefs
+child
+child
+nsfailed
+rv
+path
+delete
+prfalse
+rv
+nscomptr
+nsimsgdatabase
+maildbfactory
+rv
+nscomponentmanager
+createinstance
+kcmaildb
+nsnull
+nsgetiid
+nsimsgdatabase
+getteraddrefs
+maildbfactory
+nssucceeded
+rv
+maildbfactory
+nscomptr
+nsimsgdatabase
+unuseddb
+rv
+maildbfactory
+openfolderdb
+child
+prtrue
+prtrue
+getteraddrefs
+unuseddb
+nssucceeded
+rv
+unuseddb
+nscomptr
+nsidbfolderinfo
+folderinfo
+rv
+unuseddb
+getdbfolderinfo
+getteraddrefs
+folderinfo
+nssucceeded
+rv
+folderinfo
+setmailboxname
+foldernamestr
+unuseddb
+setsummaryvalid
+prtrue
+unuseddb
+close
+prtrue
+path
+delete
+prfalse
+rv
+nsmsgcantcreatefolder
+nssucceeded
+rv
+child
+onflagchange
+mflags
+child
+setprettyname
+foldernamestr
+get
+nscomptr
+nsisupports
+childsupports
+doqueryinterface
+child
+nscomptr
+nsisupports
+foldersupports
+doqueryinterface
+nsstaticcast
+nsimsglocalmailfolder
+rv
+childsupports
+nssucceeded
+rv
+notifyitemadded
+foldersupports
+childsupports
+folderview
+rv
+nsimethodimp
+nsmsglocalmailfolder
+compactall
+nsiurllistener
+alistener
+nsimsgwindow
+amsgwindow
+nsisupportsarray
+afolderarray
+prbool
+acompactofflinealso
+nsisupportsarray
+aofflinefolderarray
+nsresult
+rv
+nsok
+nscomptr
+nsisupportsarray
+folderarray
+afolderarray
+nscomptr
+nsimsgfolder
+rootfolder
+nscomptr
+nsisupportsarray
+alldescendents
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nssucceeded
+rv
+rootfolder
+nsnewisupportsarray
+getteraddrefs
+alldescendents
+rootfolder
+listdescendents
+alldescendents
+pruint
+cnt
+rv
+alldescendents
+count
+cnt
+nsensuresuccess
+rv
+rv
+nsnewisupportsarray
+getteraddrefs
+folderarray
+pruint
+expungedbytes
+pruint
+cnt
+nscomptr
+nsisupports
+supports
+getteraddrefs
+alldescendents
+elementat
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+supports
+rv
+nsensuresuccess
+rv
+rv
+expungedbytes
+folder
+rv
+folder
+getexpungedbytes
+expungedbytes
+nsensuresuccess
+rv
+rv
+expungedbytes
+rv
+folderarray
+appendelement
+supports
+rv
+folderarray
+count
+cnt
+nsensuresuccess
+rv
+rv
+cnt
+notifycompactcompleted
+nscomptr
+nsimsgfoldercompactor
+foldercompactor
+docreateinstance
+nsmsglocalfoldercompactorcontractid
+rv
+nssucceeded
+rv
+foldercompactor
+afolderarray
+rv
+foldercompactor
+compactall
+afolderarray
+amsgwindow
+acompactofflinealso
+aofflinefolderarray
+folderarray
+rv
+foldercompactor
+compactall
+folderarray
+amsgwindow
+acompactofflinealso
+aofflinefolderarray
+rv
+nsimethodimp
+nsmsglocalmailfolder
+compact
+nsiurllistener
+alistener
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+nscomptr
+nsimsgfoldercompactor
+foldercompactor
+docreateinstance
+nsmsglocalfoldercompactorcontractid
+rv
+nssucceeded
+rv
+foldercompactor
+pruint
+expungedbytes
+getexpungedbytes
+expungedbytes
+expungedbytes
+rv
+foldercompactor
+compact
+amsgwindow
+rv
+notifycompactcompleted
+rv
+nsimethodimp
+nsmsglocalmailfolder
+emptytrash
+nsimsgwindow
+msgwindow
+nsiurllistener
+alistener
+nsresult
+rv
+nscomptr
+nsimsgfolder
+trashfolder
+rv
+gettrashfolder
+getteraddrefs
+trashfolder
+nssucceeded
+rv
+pruint
+flags
+nsxpidlcstring
+trashuri
+trashfolder
+geturi
+gettercopies
+trashuri
+trashfolder
+getflags
+flags
+print
+totalmessages
+rv
+trashfolder
+gettotalmessages
+prtrue
+totalmessages
+totalmessages
+nscomptr
+nsienumerator
+aenumerator
+rv
+trashfolder
+getsubfolders
+getteraddrefs
+aenumerator
+nsensuresuccess
+rv
+rv
+rv
+aenumerator
+first
+nsfailed
+rv
+nsok
+nscomptr
+nsimsgfolder
+parentfolder
+rv
+trashfolder
+getparentmsgfolder
+getteraddrefs
+parentfolder
+nssucceeded
+rv
+parentfolder
+nscomptr
+nsidbfolderinfo
+transferinfo
+trashfolder
+getdbtransferinfo
+getteraddrefs
+transferinfo
+trashfolder
+setparent
+nsnull
+parentfolder
+propagatedelete
+trashfolder
+prtrue
+msgwindow
+parentfolder
+createsubfolder
+nsliteralstring
+trash
+get
+nsnull
+nscomptr
+nsimsgfolder
+newtrashfolder
+rv
+gettrashfolder
+getteraddrefs
+newtrashfolder
+nssucceeded
+rv
+newtrashfolder
+nscomptr
+nsimsglocalmailfolder
+localtrash
+doqueryinterface
+newtrashfolder
+localtrash
+localtrash
+refreshsizeondisk
+newtrashfolder
+setdbtransferinfo
+transferinfo
+newtrashfolder
+updatesummarytotals
+prtrue
+rv
+nsresult
+nsmsglocalmailfolder
+ischildoftrash
+prbool
+result
+nsresult
+rv
+nserrornullpointer
+prbool
+isserver
+prfalse
+pruint
+parentflags
+result
+rv
+result
+prfalse
+rv
+getisserver
+isserver
+nsfailed
+rv
+isserver
+rv
+rv
+getflags
+parentflags
+parentflags
+msgfolderflagtrash
+result
+prtrue
+rv
+nscomptr
+nsimsgfolder
+parentfolder
+nscomptr
+nsimsgfolder
+thisfolder
+rv
+queryinterface
+nsgetiid
+nsimsgfolder
+getteraddrefs
+thisfolder
+isserver
+thisfolder
+rv
+thisfolder
+getparentmsgfolder
+getteraddrefs
+parentfolder
+nsfailed
+rv
+rv
+rv
+parentfolder
+getisserver
+isserver
+nsfailed
+rv
+isserver
+rv
+rv
+parentfolder
+getflags
+parentflags
+nsfailed
+rv
+rv
+parentflags
+msgfolderflagtrash
+result
+prtrue
+rv
+thisfolder
+parentfolder
+rv
+nsimethodimp
+nsmsglocalmailfolder
+delete
+nsresult
+rv
+mdatabase
+notifystoreclosedallheaders
+mdatabase
+forceclosed
+mdatabase
+nsnull
+nscomptr
+nsifilespec
+pathspec
+rv
+getpath
+getteraddrefs
+pathspec
+nsfailed
+rv
+rv
+nsfilespec
+path
+rv
+pathspec
+getfilespec
+path
+nsfailed
+rv
+rv
+nslocalfoldersummaryspec
+summaryspec
+path
+nssucceeded
+rv
+summaryspec
+delete
+prfalse
+path
+delete
+prfalse
+path
+isdirectory
+adddirectoryseparator
+path
+path
+isdirectory
+path
+delete
+prtrue
+rv
+nsimethodimp
+nsmsglocalmailfolder
+deletesubfolders
+nsisupportsarray
+folders
+nsimsgwindow
+msgwindow
+nsresult
+rv
+nserrorfailure
+prbool
+ischildoftrash
+rv
+ischildoftrash
+ischildoftrash
+ischildoftrash
+nsmsgfolder
+deletesubfolders
+folders
+msgwindow
+msgwindow
+nserrornullpointer
+nscomptr
+nsimsgfolder
+trashfolder
+rv
+gettrashfolder
+getteraddrefs
+trashfolder
+nssucceeded
+rv
+nscomptr
+nsimsgfolder
+folder
+doqueryelementat
+folders
+folder
+trashfolder
+copyfolder
+folder
+prtrue
+msgwindow
+nsnull
+rv
+nsresult
+nsmsglocalmailfolder
+confirmfolderdeletion
+nsimsgwindow
+amsgwindow
+prbool
+aresult
+nsensurearg
+aresult
+nsensurearg
+amsgwindow
+nscomptr
+nsidocshell
+docshell
+amsgwindow
+getrootdocshell
+getteraddrefs
+docshell
+docshell
+prbool
+confirmdeletion
+prtrue
+nsresult
+rv
+nscomptr
+nsipref
+prefs
+dogetservice
+nsprefcontractid
+rv
+nssucceeded
+rv
+prefs
+getboolpref
+mailnews
+confirm
+movefolderstotrash
+confirmdeletion
+confirmdeletion
+mmsgstringservice
+mmsgstringservice
+dogetservice
+nsmsgpopstringservicecontractid
+mmsgstringservice
+nserrorfailure
+nsxpidlstring
+alertstring
+mmsgstringservice
+getstringbyid
+popmovefoldertotrash
+gettercopies
+alertstring
+nscomptr
+nsiprompt
+dialog
+dogetinterface
+docshell
+dialog
+dialog
+confirm
+nsnull
+alertstring
+get
+aresult
+aresult
+prtrue
+nsok
+nsimethodimp
+nsmsglocalmailfolder
+rename
+prunichar
+anewname
+nsimsgwindow
+msgwindow
+nscomptr
+nsifilespec
+oldpathspec
+nscomptr
+nsiatom
+folderrenameatom
+nsresult
+rv
+getpath
+getteraddrefs
+oldpathspec
+nsfailed
+rv
+rv
+nscomptr
+nsimsgfolder
+parentfolder
+rv
+getparentmsgfolder
+getteraddrefs
+parentfolder
+nsfailed
+rv
+rv
+nscomptr
+nsisupports
+parentsupport
+doqueryinterface
+parentfolder
+nsfilespec
+filespec
+oldpathspec
+getfilespec
+filespec
+nslocalfoldersummaryspec
+oldsummaryspec
+filespec
+nsfilespec
+dirspec
+pruint
+cnt
+msubfolders
+msubfolders
+count
+cnt
+cnt
+rv
+createdirectoryforfolder
+dirspec
+nsxpidlcstring
+convertednewname
+nsfailed
+convertfromunicode
+nsmsginfilesystemcharset
+nsautostring
+anewname
+gettercopies
+convertednewname
+nserrorfailure
+nscautostring
+newdiskname
+newdiskname
+assign
+convertednewname
+get
+nsmsghashifnecessary
+newdiskname
+nsxpidlcstring
+oldleafname
+oldpathspec
+getleafname
+gettercopies
+oldleafname
+mname
+equals
+anewname
+nscaseinsensitivestringcomparator
+msgwindow
+rv
+throwalertmsg
+folderexists
+msgwindow
+nsmsgfolderexists
+nscomptr
+nsifilespec
+parentpathspec
+parentfolder
+getpath
+getteraddrefs
+parentpathspec
+nsensuresuccess
+rv
+rv
+nsfilespec
+parentpath
+parentpathspec
+getfilespec
+parentpath
+nsensuresuccess
+rv
+rv
+parentpath
+isdirectory
+adddirectoryseparator
+parentpath
+rv
+checkiffolderexists
+anewname
+parentfolder
+msgwindow
+nsfailed
+rv
+rv
+notifystoreclosedallheaders
+forcedbclosed
+nscautostring
+newnamedirstr
+newdiskname
+get
+rv
+oldpathspec
+rename
+newdiskname
+get
+nssucceeded
+rv
+newdiskname
+msf
+oldsummaryspec
+rename
+newdiskname
+get
+throwalertmsg
+folderrenamefailed
+msgwindow
+rv
+nssucceeded
+rv
+cnt
+newnamedirstr
+sbd
+dirspec
+rename
+newnamedirstr
+get
+nscomptr
+nsimsgfolder
+newfolder
+parentsupport
+nsautostring
+newfoldername
+anewname
+rv
+parentfolder
+addsubfolder
+newfoldername
+getteraddrefs
+newfolder
+newfolder
+newfolder
+setprettyname
+newfoldername
+get
+prbool
+changed
+prfalse
+matchorchangefilterdestination
+newfolder
+prtrue
+changed
+changed
+alertfilterchanged
+msgwindow
+cnt
+newfolder
+renamesubfolders
+msgwindow
+parentfolder
+setparent
+nsnull
+parentfolder
+propagatedelete
+prfalse
+msgwindow
+nscomptr
+nsisupports
+newfoldersupports
+doqueryinterface
+newfolder
+nscomptr
+nsisupports
+parentsupports
+doqueryinterface
+parentfolder
+newfoldersupports
+parentsupports
+notifyitemadded
+parentsupports
+newfoldersupports
+folderview
+folderrenameatom
+getteraddrefs
+nsnewatom
+renamecompleted
+newfolder
+notifyfolderevent
+folderrenameatom
+rv
+nsimethodimp
+nsmsglocalmailfolder
+renamesubfolders
+nsimsgwindow
+msgwindow
+nsimsgfolder
+oldfolder
+nsresult
+rv
+nsok
+minitialized
+prtrue
+pruint
+flags
+oldfolder
+getflags
+flags
+setflags
+flags
+nscomptr
+nsienumerator
+aenumerator
+oldfolder
+getsubfolders
+getteraddrefs
+aenumerator
+nscomptr
+nsisupports
+asupport
+rv
+aenumerator
+first
+nssucceeded
+rv
+rv
+aenumerator
+currentitem
+getteraddrefs
+asupport
+nscomptr
+nsimsgfolder
+msgfolder
+doqueryinterface
+asupport
+nsxpidlstring
+foldername
+rv
+msgfolder
+getname
+gettercopies
+foldername
+nsautostring
+foldernamestr
+foldername
+get
+nscomptr
+nsimsgfolder
+newfolder
+addsubfolder
+foldernamestr
+getteraddrefs
+newfolder
+newfolder
+newfolder
+setprettyname
+foldername
+get
+prbool
+changed
+prfalse
+msgfolder
+matchorchangefilterdestination
+newfolder
+prtrue
+changed
+changed
+msgfolder
+alertfilterchanged
+msgwindow
+newfolder
+renamesubfolders
+msgwindow
+msgfolder
+rv
+aenumerator
+next
+nsok
+nsimethodimp
+nsmsglocalmailfolder
+getprettyname
+prunichar
+prettyname
+nsmsgfolder
+getprettyname
+prettyname
+nsimethodimp
+nsmsglocalmailfolder
+setprettyname
+prunichar
+aname
+nsensureargpointer
+aname
+nsresult
+rv
+nsmsgfolder
+setprettyname
+aname
+nsensuresuccess
+rv
+rv
+setstringproperty
+foldername
+nsconvertucstoutf
+mname
+get
+nsimethodimp
+nsmsglocalmailfolder
+getname
+prunichar
+aname
+readdbfolderinfo
+prfalse
+nsmsgfolder
+getname
+aname
+nsimethodimp
+nsmsglocalmailfolder
+getdbfolderinfoanddb
+nsidbfolderinfo
+folderinfo
+nsimsgdatabase
+db
+nsresult
+openerr
+nserrorunexpected
+db
+folderinfo
+mpath
+nserrornullpointer
+nsresult
+rv
+mdatabase
+openerr
+nsok
+nscomptr
+nsimsgdatabase
+maildbfactory
+docreateinstance
+kcmaildb
+rv
+nssucceeded
+rv
+maildbfactory
+openerr
+maildbfactory
+openfolderdb
+prfalse
+prfalse
+getteraddrefs
+mdatabase
+db
+mdatabase
+nsifaddref
+db
+nssucceeded
+openerr
+db
+openerr
+db
+getdbfolderinfo
+folderinfo
+openerr
+nsimethodimp
+nsmsglocalmailfolder
+readfromfoldercacheelem
+nsimsgfoldercacheelement
+element
+nsensureargpointer
+element
+nsresult
+rv
+nsmsgdbfolder
+readfromfoldercacheelem
+element
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+utfname
+rv
+element
+getstringproperty
+foldername
+gettercopies
+utfname
+nsensuresuccess
+rv
+rv
+mname
+nsconvertutftoucs
+utfname
+get
+rv
+nsimethodimp
+nsmsglocalmailfolder
+writetofoldercacheelem
+nsimsgfoldercacheelement
+element
+nsensureargpointer
+element
+nsmsgdbfolder
+writetofoldercacheelem
+element
+element
+setstringproperty
+foldername
+nsconvertucstoutf
+mname
+get
+nsimethodimp
+nsmsglocalmailfolder
+updatesummarytotals
+prbool
+force
+mnotifycountchanges
+nsok
+print
+oldunreadmessages
+mnumunreadmessages
+print
+oldtotalmessages
+mnumtotalmessages
+readdbfolderinfo
+force
+oldtotalmessages
+mnumtotalmessages
+notifyintpropertychanged
+ktotalmessagesatom
+oldtotalmessages
+mnumtotalmessages
+oldunreadmessages
+mnumunreadmessages
+notifyintpropertychanged
+ktotalunreadmessagesatom
+oldunreadmessages
+mnumunreadmessages
+flushtofoldercache
+nsok
+nsimethodimp
+nsmsglocalmailfolder
+getdeletable
+prbool
+deletable
+deletable
+nserrornullpointer
+prbool
+isserver
+getisserver
+isserver
+isserver
+deletable
+prfalse
+mflags
+msgfolderflaginbox
+mflags
+msgfolderflagdrafts
+mflags
+msgfolderflagtrash
+mflags
+msgfolderflagtemplates
+mflags
+msgfolderflagjunk
+deletable
+prfalse
+deletable
+prtrue
+nsok
+nsimethodimp
+nsmsglocalmailfolder
+getrequirescleanup
+prbool
+requirescleanup
+ifdef
+haveport
+mexpungedbytes
+print
+purgethreshhold
+mmaster
+getprefs
+getpurgethreshhold
+prbool
+purgeprompt
+mmaster
+getprefs
+getpurgethreshholdenabled
+purgeprompt
+mexpungedbytes
+purgethreshhold
+prfalse
+endif
+nsok
+nsimethodimp
+nsmsglocalmailfolder
+refreshsizeondisk
+pruint
+oldfoldersize
+mfoldersize
+mfoldersize
+nssucceeded
+getsizeondisk
+mfoldersize
+notifyintpropertychanged
+kfoldersizeatom
+oldfoldersize
+mfoldersize
+nsok
+nsimethodimp
+nsmsglocalmailfolder
+getsizeondisk
+pruint
+asize
+nsensureargpointer
+asize
+nsresult
+rv
+nsok
+mfoldersize
+nscomptr
+nsifilespec
+filespec
+rv
+getpath
+getteraddrefs
+filespec
+nsensuresuccess
+rv
+rv
+rv
+filespec
+getfilesize
+mfoldersize
+asize
+mfoldersize
+rv
+nsimethodimp
+nsmsglocalmailfolder
+userneedstoauthenticateforfolder
+prbool
+displayonly
+prbool
+authenticate
+ifdef
+haveport
+prbool
+ret
+prfalse
+mmaster
+iscachepasswordprotected
+mmaster
+isuserauthenticated
+mmaster
+arelocalfoldersauthenticated
+savedpassword
+getrememberedpassword
+savedpassword
+strlen
+savedpassword
+ret
+prtrue
+freeif
+savedpassword
+ret
+endif
+nsok
+nsimethodimp
+nsmsglocalmailfolder
+rememberpassword
+password
+ifdef
+havedb
+maildb
+maildb
+maildb
+open
+mpathname
+prtrue
+maildb
+maildb
+maildb
+setcachedpassword
+password
+maildb
+close
+endif
+nsok
+nsimethodimp
+nsmsglocalmailfolder
+getrememberedpassword
+password
+ifdef
+haveport
+prbool
+serverisimap
+mmaster
+getprefs
+getmailserverisimap
+savedpassword
+serverisimap
+msgimaphost
+defaultimaphost
+mmaster
+getimaphosttable
+getdefaulthost
+defaultimaphost
+msgfolderinfo
+hostfolderinfo
+defaultimaphost
+gethostfolderinfo
+msgfolderinfo
+defaulthostimapinbox
+hostfolderinfo
+getfolderswithflag
+msgfolderflaginbox
+defaulthostimapinbox
+defaulthostimapinbox
+savedpassword
+defaulthostimapinbox
+getrememberedpassword
+msgfolderinfo
+offlineinbox
+mflags
+msgfolderflaginbox
+retpassword
+maildb
+maildb
+maildb
+open
+mpathname
+prfalse
+maildb
+prfalse
+maildb
+maildb
+getcachedpassword
+cachedpassword
+retpassword
+nscrt
+strdup
+cachedpassword
+maildb
+close
+retpassword
+mmaster
+getlocalmailfoldertree
+getfolderswithflag
+msgfolderflaginbox
+offlineinbox
+offlineinbox
+savedpassword
+offlineinbox
+getrememberedpassword
+savedpassword
+endif
+nsok
+nsresult
+nsmsglocalmailfolder
+gettrashfolder
+nsimsgfolder
+result
+nsresult
+rv
+nserrornullpointer
+result
+rv
+nscomptr
+nsimsgfolder
+rootfolder
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nssucceeded
+rv
+pruint
+numfolders
+rv
+rootfolder
+getfolderswithflag
+msgfolderflagtrash
+numfolders
+result
+nssucceeded
+rv
+numfolders
+rv
+nserrorfailure
+rv
+nsimethodimp
+nsmsglocalmailfolder
+deletemessages
+nsisupportsarray
+messages
+nsimsgwindow
+msgwindow
+prbool
+deletestorage
+prbool
+ismove
+nsimsgcopyservicelistener
+listener
+prbool
+allowundo
+nsensureargpointer
+messages
+pruint
+messagecount
+nsresult
+rv
+messages
+count
+messagecount
+messagecount
+rv
+prbool
+istrashfolder
+mflags
+msgfolderflagtrash
+deletestorage
+istrashfolder
+nscomptr
+nsimsgfolder
+trashfolder
+rv
+gettrashfolder
+getteraddrefs
+trashfolder
+nssucceeded
+rv
+nscomptr
+nsimsgcopyservice
+copyservice
+dogetservice
+nsmsgcopyservicecontractid
+rv
+nssucceeded
+rv
+copyservice
+copymessages
+messages
+trashfolder
+prtrue
+listener
+msgwindow
+allowundo
+rv
+rv
+getdatabase
+msgwindow
+nssucceeded
+rv
+nscomptr
+nsisupports
+msgsupport
+markmsgsonpopserver
+messages
+prtrue
+rv
+enablenotifications
+allmessagecountnotifications
+prfalse
+prtrue
+nssucceeded
+rv
+pruint
+messagecount
+msgsupport
+getteraddrefs
+messages
+elementat
+msgsupport
+deletemessage
+msgsupport
+msgwindow
+prtrue
+prfalse
+rv
+nsmsgfolderbusy
+throwalertmsg
+deletingmsgsfailed
+msgwindow
+enablenotifications
+allmessagecountnotifications
+prtrue
+prtrue
+nssucceeded
+rv
+mdatabase
+setsummaryvalid
+prtrue
+mdatabase
+commit
+nsmsgdbcommittype
+klargecommit
+ismove
+notifyfolderevent
+nssucceeded
+rv
+mdeleteormovemsgcompletedatom
+mdeleteormovemsgfailedatom
+rv
+nsresult
+nsmsglocalmailfolder
+initcopystate
+nsisupports
+asupport
+nsisupportsarray
+messages
+prbool
+ismove
+nsimsgcopyservicelistener
+listener
+nsimsgwindow
+msgwindow
+prbool
+isfolder
+prbool
+allowundo
+nsresult
+rv
+nsok
+nsfilespec
+path
+nscomptr
+nsifilespec
+pathspec
+nsassertion
+mcopystate
+already
+copying
+msg
+into
+folder
+mcopystate
+nserrorfailure
+nscomptr
+nsimsgdatabase
+msgdb
+getdatabaseworeparse
+getteraddrefs
+msgdb
+prbool
+islocked
+getlocked
+islocked
+islocked
+acquiresemaphore
+nsstaticcast
+nsimsglocalmailfolder
+nsmsgfolderbusy
+rv
+getpath
+getteraddrefs
+pathspec
+nsensuresuccess
+rv
+rv
+rv
+pathspec
+getfilespec
+path
+nsensuresuccess
+rv
+rv
+mcopystate
+nslocalmailcopystate
+mcopystate
+nserroroutofmemory
+mcopystate
+mdatabuffer
+prcalloc
+copybuffersize
+mcopystate
+mdatabuffer
+nserroroutofmemory
+mcopystate
+mdatabuffersize
+copybuffersize
+mcopystate
+mfilestream
+nsoutputfilestream
+path
+prwronly
+prcreatefile
+mcopystate
+mfilestream
+nserroroutofmemory
+mcopystate
+mfilestream
+seek
+prseekend
+mcopystate
+msrcsupport
+doqueryinterface
+asupport
+rv
+nsensuresuccess
+rv
+rv
+mcopystate
+mmessages
+doqueryinterface
+messages
+rv
+nsensuresuccess
+rv
+rv
+mcopystate
+mcurcopyindex
+mcopystate
+mismove
+ismove
+mcopystate
+misfolder
+isfolder
+mcopystate
+mallowundo
+allowundo
+mcopystate
+mmsgwindow
+msgwindow
+rv
+messages
+count
+mcopystate
+mtotalmsgcount
+listener
+mcopystate
+mlistener
+doqueryinterface
+listener
+rv
+mcopystate
+mcopyingmultiplemessages
+prfalse
+rv
+nsresult
+nsmsglocalmailfolder
+oncopycompleted
+nsisupports
+srcsupport
+prbool
+movecopysucceeded
+mcopystate
+mcopystate
+mnotifyfolderloaded
+notifyfolderevent
+mfolderloadedatom
+mcopystate
+mcopystate
+nsnull
+refreshsizeondisk
+movecopysucceeded
+mdatabase
+mdatabase
+setsummaryvalid
+prtrue
+mdatabase
+commit
+nsmsgdbcommittype
+klargecommit
+nsresult
+rv
+nscomptr
+nsimsgmailsession
+session
+dogetservice
+nsmsgmailsessioncontractid
+rv
+nssucceeded
+rv
+session
+prbool
+folderopen
+session
+isfolderopeninwindow
+folderopen
+folderopen
+mflags
+msgfolderflagtrash
+msgfolderflaginbox
+setmsgdatabase
+nsnull
+prbool
+havesemaphore
+nsresult
+result
+result
+testsemaphore
+nsstaticcast
+nsimsglocalmailfolder
+havesemaphore
+nssucceeded
+result
+havesemaphore
+releasesemaphore
+nsstaticcast
+nsimsglocalmailfolder
+nscomptr
+nsimsgcopyservice
+copyservice
+dogetservice
+nsmsgcopyservicecontractid
+result
+nssucceeded
+result
+copyservice
+notifycompletion
+srcsupport
+movecopysucceeded
+nsok
+nserrorfailure
+nsok
+nsresult
+nsmsglocalmailfolder
+sortmessagesbasedonkey
+nsisupportsarray
+messages
+nsmsgkeyarray
+akeyarray
+nsimsgfolder
+srcfolder
+nsresult
+rv
+nsok
+pruint
+nummessages
+rv
+messages
+count
+nummessages
+nsensuresuccess
+rv
+rv
+nsassertion
+nummessages
+akeyarray
+getsize
+message
+array
+key
+array
+size
+are
+same
+rv
+messages
+clear
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgdbhdr
+msghdr
+nscomptr
+nsidbfolderinfo
+folderinfo
+nscomptr
+nsimsgdatabase
+db
+rv
+srcfolder
+getdbfolderinfoanddb
+getteraddrefs
+folderinfo
+getteraddrefs
+db
+nssucceeded
+rv
+db
+pruint
+nummessages
+rv
+db
+getmsghdrforkey
+akeyarray
+getat
+getteraddrefs
+msghdr
+nsensuresuccess
+rv
+rv
+msghdr
+messages
+appendelement
+msghdr
+rv
+nsimethodimp
+nsmsglocalmailfolder
+copymessages
+nsimsgfolder
+srcfolder
+nsisupportsarray
+messages
+prbool
+ismove
+nsimsgwindow
+msgwindow
+nsimsgcopyservicelistener
+listener
+prbool
+isfolder
+prbool
+allowundo
+nscomptr
+nsisupports
+srcsupport
+doqueryinterface
+srcfolder
+prbool
+isserver
+nsresult
+rv
+getisserver
+isserver
+nssucceeded
+rv
+isserver
+nsassertion
+destination
+is
+the
+root
+folder
+cannot
+move
+copy
+here
+ismove
+srcfolder
+notifyfolderevent
+mdeleteormovemsgfailedatom
+oncopycompleted
+srcsupport
+prfalse
+nsxpidlcstring
+uri
+rv
+srcfolder
+geturi
+gettercopies
+uri
+nscautostring
+protocoltype
+uri
+protocoltype
+setlength
+protocoltype
+findchar
+weareoffline
+protocoltype
+equalsignorecase
+imap
+protocoltype
+equalsignorecase
+news
+pruint
+nummessages
+messages
+count
+nummessages
+pruint
+nummessages
+nscomptr
+nsimsgdbhdr
+message
+messages
+queryelementat
+nsgetiid
+nsimsgdbhdr
+getteraddrefs
+message
+nssucceeded
+rv
+message
+nsmsgkey
+key
+prbool
+hasmsgoffline
+prfalse
+message
+getmessagekey
+key
+srcfolder
+hasmsgoffline
+key
+hasmsgoffline
+hasmsgoffline
+ismove
+srcfolder
+notifyfolderevent
+mdeleteormovemsgfailedatom
+throwalertmsg
+cantmovemsgwobodyoffline
+msgwindow
+oncopycompleted
+srcsupport
+prfalse
+enablenotifications
+allmessagecountnotifications
+prfalse
+prfalse
+rv
+initcopystate
+srcsupport
+messages
+ismove
+listener
+msgwindow
+isfolder
+allowundo
+nsfailed
+rv
+oncopycompleted
+srcsupport
+prfalse
+protocoltype
+equalsignorecase
+mailbox
+mcopystate
+mdummyenvelopeneeded
+prtrue
+nsparsemailmessagestate
+parsemsgstate
+nsparsemailmessagestate
+parsemsgstate
+nscomptr
+nsimsgdatabase
+msgdb
+mcopystate
+mparsemsgstate
+doqueryinterface
+parsemsgstate
+rv
+getdatabaseworeparse
+getteraddrefs
+msgdb
+msgdb
+parsemsgstate
+setmaildb
+msgdb
+allowundo
+nslocalmovecopymsgtxn
+msgtxn
+nsnull
+msgtxn
+nslocalmovecopymsgtxn
+srcfolder
+ismove
+msgtxn
+rv
+msgtxn
+queryinterface
+nsgetiid
+nslocalmovecopymsgtxn
+getteraddrefs
+mcopystate
+mundomsgtxn
+rv
+nserroroutofmemory
+nsfailed
+rv
+oncopycompleted
+srcsupport
+prfalse
+msgtxn
+setmsgwindow
+msgwindow
+ismove
+mflags
+msgfolderflagtrash
+msgtxn
+settransactiontype
+nsimessenger
+edeletemsg
+msgtxn
+settransactiontype
+nsimessenger
+emovemsg
+msgtxn
+settransactiontype
+nsimessenger
+ecopymsg
+pruint
+nummsgs
+mcopystate
+mmessages
+count
+nummsgs
+nummsgs
+protocoltype
+equalsignorecase
+imap
+weareoffline
+protocoltype
+equalsignorecase
+mailbox
+mcopystate
+mcopyingmultiplemessages
+prtrue
+rv
+copymessagesto
+mcopystate
+mmessages
+msgwindow
+ismove
+nsfailed
+rv
+nserror
+copy
+message
+failed
+oncopycompleted
+srcsupport
+prfalse
+nscomptr
+nsisupports
+msgsupport
+msgsupport
+getteraddrefs
+mcopystate
+mmessages
+elementat
+msgsupport
+rv
+copymessageto
+msgsupport
+msgwindow
+ismove
+nsfailed
+rv
+nsassertion
+prfalse
+copy
+message
+failed
+oncopycompleted
+srcsupport
+prfalse
+nsfailed
+rv
+ismove
+srcfolder
+notifyfolderevent
+mdeleteormovemsgfailedatom
+enablenotifications
+allmessagecountnotifications
+prtrue
+prfalse
+rv
+nsresult
+nsmsglocalmailfolder
+copyfolderacrossserver
+nsimsgfolder
+srcfolder
+nsimsgwindow
+msgwindow
+nsimsgcopyservicelistener
+listener
+nsresult
+rv
+minitialized
+prtrue
+nsxpidlstring
+foldername
+srcfolder
+getname
+gettercopies
+foldername
+rv
+createsubfolder
+foldername
+msgwindow
+nsfailed
+rv
+rv
+nsxpidlcstring
+escapedfoldername
+rv
+nsmsgescapeencodeurlpath
+foldername
+get
+gettercopies
+escapedfoldername
+nsensuresuccess
+rv
+rv
+nscomptr
+nsifolder
+newfolder
+nscomptr
+nsimsgfolder
+newmsgfolder
+findsubfolder
+escapedfoldername
+get
+getteraddrefs
+newfolder
+newmsgfolder
+doqueryinterface
+newfolder
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisimpleenumerator
+messages
+rv
+srcfolder
+getmessages
+msgwindow
+getteraddrefs
+messages
+nscomptr
+nsisupportsarray
+msgsupportsarray
+nsnewisupportsarray
+getteraddrefs
+msgsupportsarray
+prbool
+hasmoreelements
+nscomptr
+nsisupports
+asupport
+messages
+messages
+hasmoreelements
+hasmoreelements
+hasmoreelements
+nssucceeded
+rv
+rv
+messages
+getnext
+getteraddrefs
+asupport
+rv
+msgsupportsarray
+appendelement
+asupport
+messages
+hasmoreelements
+hasmoreelements
+pruint
+nummsgs
+msgsupportsarray
+count
+nummsgs
+nummsgs
+newmsgfolder
+copymessages
+srcfolder
+msgsupportsarray
+prfalse
+msgwindow
+listener
+prtrue
+prfalse
+nscomptr
+nsimsglocalmailfolder
+localfolder
+doqueryinterface
+newmsgfolder
+localfolder
+localfolder
+donextsubfolder
+srcfolder
+msgwindow
+listener
+nsok
+nsresult
+nsmsglocalmailfolder
+donextsubfolder
+nsimsgfolder
+srcfolder
+nsimsgwindow
+msgwindow
+nsimsgcopyservicelistener
+listener
+nsresult
+rv
+nscomptr
+nsienumerator
+aenumerator
+srcfolder
+getsubfolders
+getteraddrefs
+aenumerator
+nscomptr
+nsimsgfolder
+folder
+nscomptr
+nsisupports
+asupports
+rv
+aenumerator
+first
+nssucceeded
+rv
+rv
+aenumerator
+currentitem
+getteraddrefs
+asupports
+folder
+doqueryinterface
+asupports
+rv
+aenumerator
+next
+folder
+copyfolderacrossserver
+folder
+msgwindow
+listener
+rv
+nsimethodimp
+nsmsglocalmailfolder
+copyfolder
+nsimsgfolder
+srcfolder
+prbool
+ismovefolder
+nsimsgwindow
+msgwindow
+nsimsgcopyservicelistener
+listener
+nsresult
+rv
+nsensureargpointer
+srcfolder
+ismovefolder
+rv
+copyfolderlocal
+srcfolder
+ismovefolder
+msgwindow
+listener
+rv
+copyfolderacrossserver
+srcfolder
+msgwindow
+listener
+rv
+nsimethodimp
+nsmsglocalmailfolder
+copyfolderlocal
+nsimsgfolder
+srcfolder
+prbool
+ismovefolder
+nsimsgwindow
+msgwindow
+nsimsgcopyservicelistener
+listener
+nsresult
+rv
+minitialized
+prtrue
+nscomptr
+nsifolder
+newfolder
+nscomptr
+nsimsgfolder
+newmsgfolder
+prbool
+ischildoftrash
+prfalse
+rv
+ischildoftrash
+ischildoftrash
+ischildoftrash
+ismovefolder
+prbool
+oktodelete
+prfalse
+confirmfolderdeletion
+msgwindow
+oktodelete
+oktodelete
+nsmsgerrorcopyfolderaborted
+prbool
+match
+prfalse
+rv
+srcfolder
+matchorchangefilterdestination
+nsnull
+prfalse
+match
+match
+prbool
+confirmed
+prfalse
+srcfolder
+confirmfolderdeletionforfilter
+msgwindow
+confirmed
+confirmed
+nsmsgerrorcopyfolderaborted
+nsxpidlstring
+idlname
+srcfolder
+getname
+gettercopies
+idlname
+nsautostring
+foldername
+foldername
+assign
+idlname
+srcfolder
+forcedbclosed
+nscomptr
+nsifilespec
+oldpathspec
+rv
+srcfolder
+getpath
+getteraddrefs
+oldpathspec
+nsensuresuccess
+rv
+rv
+nsfilespec
+oldpath
+rv
+oldpathspec
+getfilespec
+oldpath
+nsensuresuccess
+rv
+rv
+nslocalfoldersummaryspec
+summaryspec
+oldpath
+nscomptr
+nsifilespec
+newpathspec
+rv
+getpath
+getteraddrefs
+newpathspec
+nsensuresuccess
+rv
+rv
+nsfilespec
+newpath
+rv
+newpathspec
+getfilespec
+newpath
+nsensuresuccess
+rv
+rv
+newpath
+isdirectory
+adddirectoryseparator
+newpath
+newpath
+createdirectory
+rv
+checkiffolderexists
+foldername
+get
+msgwindow
+nsfailed
+rv
+rv
+nsfilespec
+path
+oldpath
+rv
+path
+copytodir
+newpath
+nsensuresuccess
+rv
+rv
+rv
+summaryspec
+copytodir
+newpath
+nsensuresuccess
+rv
+rv
+rv
+addsubfolder
+foldername
+getteraddrefs
+newmsgfolder
+nsensuresuccess
+rv
+rv
+newmsgfolder
+setprettyname
+foldername
+get
+pruint
+flags
+srcfolder
+getflags
+flags
+newmsgfolder
+setflags
+flags
+prbool
+changed
+prfalse
+rv
+srcfolder
+matchorchangefilterdestination
+newmsgfolder
+prtrue
+changed
+changed
+srcfolder
+alertfilterchanged
+msgwindow
+nscomptr
+nsienumerator
+aenumerator
+srcfolder
+getsubfolders
+getteraddrefs
+aenumerator
+nscomptr
+nsimsgfolder
+folder
+nscomptr
+nsisupports
+supports
+rv
+aenumerator
+first
+nsresult
+copystatus
+nsok
+nssucceeded
+rv
+nssucceeded
+copystatus
+rv
+aenumerator
+currentitem
+getteraddrefs
+supports
+folder
+doqueryinterface
+supports
+rv
+aenumerator
+next
+folder
+nscomptr
+nsimsglocalmailfolder
+localfolder
+doqueryinterface
+newmsgfolder
+localfolder
+copystatus
+localfolder
+copyfolderlocal
+folder
+prfalse
+msgwindow
+listener
+ismovefolder
+nssucceeded
+copystatus
+nscomptr
+nsisupports
+supports
+doqueryinterface
+newmsgfolder
+nscomptr
+nsisupports
+parentsupports
+doqueryinterface
+nsimsglocalmailfolder
+supports
+parentsupports
+notifyitemadded
+parentsupports
+supports
+folderview
+nscomptr
+nsimsgfolder
+msgparent
+srcfolder
+getparentmsgfolder
+getteraddrefs
+msgparent
+srcfolder
+setparent
+nsnull
+msgparent
+msgparent
+propagatedelete
+srcfolder
+prfalse
+msgwindow
+oldpath
+delete
+prfalse
+summaryspec
+delete
+prfalse
+oldpath
+isdirectory
+adddirectoryseparator
+oldpath
+oldpath
+isdirectory
+oldpath
+delete
+prtrue
+nsok
+nsimethodimp
+nsmsglocalmailfolder
+copyfilemessage
+nsifilespec
+filespec
+nsimsgdbhdr
+msgtoreplace
+prbool
+isdraftortemplate
+nsimsgwindow
+msgwindow
+nsimsgcopyservicelistener
+listener
+nsresult
+rv
+nserrornullpointer
+nscomptr
+nsiinputstream
+inputstream
+nsparsemailmessagestate
+parsemsgstate
+nsnull
+pruint
+filesize
+nscomptr
+nsisupports
+filesupport
+doqueryinterface
+filespec
+rv
+nscomptr
+nsisupportsarray
+messages
+rv
+nsnewisupportsarray
+getteraddrefs
+messages
+msgtoreplace
+nscomptr
+nsisupports
+msgsupport
+doqueryinterface
+msgtoreplace
+rv
+nssucceeded
+rv
+messages
+appendelement
+msgsupport
+rv
+initcopystate
+filesupport
+messages
+msgtoreplace
+prtrue
+prfalse
+listener
+msgwindow
+prfalse
+prfalse
+nsfailed
+rv
+done
+parsemsgstate
+nsparsemailmessagestate
+parsemsgstate
+nscomptr
+nsimsgdatabase
+msgdb
+mcopystate
+mparsemsgstate
+doqueryinterface
+parsemsgstate
+rv
+getdatabaseworeparse
+getteraddrefs
+msgdb
+msgdb
+parsemsgstate
+setmaildb
+msgdb
+rv
+filespec
+openstreamforreading
+nsensuresuccess
+rv
+rv
+rv
+filespec
+getinputstream
+getteraddrefs
+inputstream
+nsensuresuccess
+rv
+rv
+rv
+nserrornullpointer
+inputstream
+rv
+inputstream
+available
+filesize
+nsfailed
+rv
+done
+rv
+begincopy
+nsnull
+nsfailed
+rv
+done
+rv
+copydata
+inputstream
+print
+filesize
+nsfailed
+rv
+done
+rv
+endcopy
+prtrue
+nsfailed
+rv
+done
+msgtoreplace
+mdatabase
+rv
+deletemessage
+msgtoreplace
+msgwindow
+prtrue
+prtrue
+done
+nsfailed
+rv
+oncopycompleted
+filesupport
+prfalse
+filespec
+closestream
+rv
+nsresult
+nsmsglocalmailfolder
+deletemessage
+nsisupports
+message
+nsimsgwindow
+msgwindow
+prbool
+deletestorage
+prbool
+commit
+nsresult
+rv
+nsok
+deletestorage
+nscomptr
+nsimsgdbhdr
+msgdbhdr
+doqueryinterface
+message
+rv
+nssucceeded
+rv
+rv
+mdatabase
+deleteheader
+msgdbhdr
+nsnull
+commit
+prtrue
+rv
+nsimethodimp
+nsmsglocalmailfolder
+getnewmessages
+nsimsgwindow
+awindow
+nsiurllistener
+alistener
+nsresult
+rv
+nsok
+nscomptr
+nsimsgincomingserver
+server
+rv
+getserver
+getteraddrefs
+server
+nsfailed
+rv
+rv
+server
+nsmsginvalidormissingserver
+nscomptr
+nsilocalmailincomingserver
+localmailserver
+doqueryinterface
+server
+rv
+nsfailed
+rv
+rv
+localmailserver
+nsmsginvalidormissingserver
+nscomptr
+nsimsgfolder
+inbox
+nscomptr
+nsimsgfolder
+rootfolder
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nssucceeded
+rv
+rootfolder
+pruint
+numfolders
+rv
+rootfolder
+getfolderswithflag
+msgfolderflaginbox
+numfolders
+getteraddrefs
+inbox
+nscomptr
+nsimsglocalmailfolder
+localinbox
+doqueryinterface
+inbox
+rv
+nssucceeded
+rv
+localinbox
+prbool
+valid
+prfalse
+nscomptr
+nsimsgdatabase
+db
+rv
+inbox
+getmsgdatabase
+awindow
+getteraddrefs
+db
+nssucceeded
+rv
+db
+rv
+db
+getsummaryvalid
+valid
+valid
+rv
+localmailserver
+getnewmail
+awindow
+alistener
+inbox
+nsnull
+rv
+localinbox
+setcheckfornewmessagesafterparsing
+prtrue
+rv
+nsresult
+nsmsglocalmailfolder
+writestartofnewmessage
+mcopystate
+mcurdstkey
+mcopystate
+mfilestream
+tell
+mcopystate
+mparsemsgstate
+mcopystate
+mparsemsgstate
+setenvelopepos
+mcopystate
+mcurdstkey
+mcopystate
+mparsemsgstate
+setstate
+nsimsgparsemailmsgstate
+parseheadersstate
+mcopystate
+mdummyenvelopeneeded
+nscstring
+result
+timebuffer
+prexplodedtime
+now
+prexplodetime
+prnow
+prlocaltimeparameters
+now
+prformattimeusenglish
+timebuffer
+timebuffer
+now
+result
+append
+from
+result
+append
+timebuffer
+result
+append
+msglinebreak
+nsresult
+rv
+nscomptr
+nsimsgdbhdr
+cursourcemessage
+cursourcemessage
+doqueryelementat
+mcopystate
+mmessages
+mcopystate
+mcurcopyindex
+rv
+statusstrbuf
+cursourcemessage
+pruint
+dbflags
+cursourcemessage
+getflags
+dbflags
+prsnprintf
+statusstrbuf
+statusstrbuf
+xmozillastatusformat
+msglinebreak
+dbflags
+msgflagruntimeonly
+msgflagoffline
+xffff
+dbflags
+msgflagnew
+strcpy
+statusstrbuf
+mozilla
+status
+msglinebreak
+mcopystate
+mfilestream
+result
+get
+mcopystate
+mparsemsgstate
+mcopystate
+mparsemsgstate
+parseafolderline
+result
+get
+result
+length
+mcopystate
+mfilestream
+statusstrbuf
+mcopystate
+mparsemsgstate
+mcopystate
+mparsemsgstate
+parseafolderline
+statusstrbuf
+strlen
+statusstrbuf
+result
+mozilla
+status
+msglinebreak
+mcopystate
+mfilestream
+result
+get
+mcopystate
+mparsemsgstate
+mcopystate
+mparsemsgstate
+parseafolderline
+result
+get
+result
+length
+mcopystate
+mfromlineseen
+prtrue
+mcopystate
+mfromlineseen
+prfalse
+mcopystate
+mcurcopyindex
+nsok
+nsimethodimp
+nsmsglocalmailfolder
+begincopy
+nsimsgdbhdr
+message
+mcopystate
+nserrornullpointer
+nsresult
+rv
+nsok
+mcopystate
+mfilestream
+seek
+prseekend
+print
+messageindex
+mcopystate
+mcopyingmultiplemessages
+mcopystate
+mcurcopyindex
+mcopystate
+mcurcopyindex
+nsassertion
+mcopystate
+mcopyingmultiplemessages
+mcopystate
+mcurcopyindex
+mcopystate
+mcurcopyindex
+invalid
+mcopystate
+mmessages
+queryelementat
+messageindex
+nsgetiid
+nsimsgdbhdr
+getteraddrefs
+mcopystate
+mmessage
+displaymovecopystatusmsg
+mcopystate
+mcopyingmultiplemessages
+rv
+writestartofnewmessage
+rv
+nsimethodimp
+nsmsglocalmailfolder
+copydata
+nsiinputstream
+aistream
+print
+alength
+prbool
+havesemaphore
+nsresult
+rv
+nsok
+rv
+testsemaphore
+nsstaticcast
+nsimsglocalmailfolder
+havesemaphore
+nsfailed
+rv
+rv
+havesemaphore
+nsmsgfolderbusy
+mcopystate
+nserroroutofmemory
+pruint
+readcount
+alength
+mcopystate
+mleftover
+mcopystate
+mdatabuffersize
+mcopystate
+mdatabuffer
+prrealloc
+mcopystate
+mdatabuffer
+alength
+mcopystate
+mleftover
+mcopystate
+mdatabuffer
+nserroroutofmemory
+mcopystate
+mdatabuffersize
+alength
+mcopystate
+mleftover
+mcopystate
+mfilestream
+seek
+prseekend
+start
+end
+pruint
+linebreaklen
+rv
+aistream
+read
+mcopystate
+mdatabuffer
+mcopystate
+mleftover
+alength
+readcount
+nsensuresuccess
+rv
+rv
+mcopystate
+mleftover
+readcount
+mcopystate
+mdatabuffer
+mcopystate
+mleftover
+start
+mcopystate
+mdatabuffer
+end
+memchr
+start
+mcopystate
+mleftover
+end
+end
+memchr
+start
+mcopystate
+mleftover
+end
+nscrt
+lf
+linebreaklen
+linebreaklen
+linebreaklen
+linebreaklen
+nscstring
+line
+tmpchar
+print
+linelength
+byteswritten
+start
+end
+mcopystate
+mfromlineseen
+strncmp
+start
+from
+line
+tmpchar
+end
+end
+line
+start
+end
+tmpchar
+line
+msglinebreak
+linelength
+line
+length
+byteswritten
+mcopystate
+mfilestream
+write
+line
+get
+linelength
+byteswritten
+linelength
+throwalertmsg
+copymsgwritefailed
+mcopystate
+mmsgwindow
+mcopystate
+mwritefailed
+prtrue
+nsmsgerrorwritingmailfolder
+mcopystate
+mparsemsgstate
+mcopystate
+mparsemsgstate
+parseafolderline
+line
+get
+line
+length
+keepgoing
+mcopystate
+mfromlineseen
+prtrue
+nsassertion
+strncmp
+start
+from
+fatal
+bad
+message
+format
+linelength
+end
+start
+linebreaklen
+byteswritten
+mcopystate
+mfilestream
+write
+start
+linelength
+byteswritten
+linelength
+throwalertmsg
+copymsgwritefailed
+mcopystate
+mmsgwindow
+mcopystate
+mwritefailed
+prtrue
+nsmsgerrorwritingmailfolder
+mcopystate
+mparsemsgstate
+mcopystate
+mparsemsgstate
+parseafolderline
+start
+end
+start
+linebreaklen
+keepgoing
+start
+end
+linebreaklen
+start
+mcopystate
+mdatabuffer
+mcopystate
+mleftover
+mcopystate
+mleftover
+endbuffer
+mcopystate
+mdatabuffer
+mcopystate
+mleftover
+end
+memchr
+start
+endbuffer
+start
+end
+end
+nscrt
+lf
+linebreaklen
+linebreaklen
+end
+end
+memchr
+start
+endbuffer
+start
+end
+linebreaklen
+linebreaklen
+start
+end
+mcopystate
+mleftover
+start
+mcopystate
+mdatabuffer
+memcpy
+mcopystate
+mdatabuffer
+start
+mcopystate
+mleftover
+rv
+nsmsglocalmailfolder
+copypropertiestomsghdr
+nsimsgdbhdr
+desthdr
+nsimsgdbhdr
+srchdr
+nsxpidlcstring
+sourcejunkscore
+srchdr
+getstringproperty
+junkscore
+gettercopies
+sourcejunkscore
+desthdr
+setstringproperty
+junkscore
+sourcejunkscore
+srchdr
+getstringproperty
+junkscoreorigin
+gettercopies
+sourcejunkscore
+desthdr
+setstringproperty
+junkscoreorigin
+sourcejunkscore
+nsimethodimp
+nsmsglocalmailfolder
+endcopy
+prbool
+copysucceeded
+nsresult
+rv
+copysucceeded
+nsok
+nserrorfailure
+mcopystate
+nsok
+copysucceeded
+mcopystate
+mwritefailed
+mcopystate
+mfilestream
+mcopystate
+mfilestream
+close
+nscomptr
+nsifilespec
+pathspec
+rv
+getpath
+getteraddrefs
+pathspec
+nssucceeded
+rv
+pathspec
+pathspec
+truncate
+mcopystate
+mcurdstkey
+mcopystate
+mismove
+oncopycompleted
+mcopystate
+msrcsupport
+prtrue
+enablenotifications
+allmessagecountnotifications
+prtrue
+prfalse
+nsok
+nscomptr
+nslocalmovecopymsgtxn
+localundotxn
+prbool
+multiplecopiesfinished
+mcopystate
+mcurcopyindex
+mcopystate
+mtotalmsgcount
+mcopystate
+mundomsgtxn
+localundotxn
+doqueryinterface
+mcopystate
+mundomsgtxn
+mcopystate
+nsassertion
+mcopystate
+mleftover
+whoops
+something
+wrong
+with
+previous
+copy
+mcopystate
+mleftover
+mcopystate
+mfromlineseen
+prfalse
+mcopystate
+mfilestream
+mcopystate
+mfilestream
+seek
+prseekcur
+copysucceeded
+mcopystate
+mmessage
+nscomptr
+nsimsgdbhdr
+newhdr
+mcopystate
+mparsemsgstate
+mdatabase
+rv
+mdatabase
+copyhdrfromexistinghdr
+mcopystate
+mcurdstkey
+mcopystate
+mmessage
+prtrue
+getteraddrefs
+newhdr
+pruint
+newhdrflags
+newhdr
+newhdr
+andflags
+msgflagoffline
+newhdrflags
+prbool
+isimap
+nssucceeded
+rv
+localundotxn
+localundotxn
+getsrcisimap
+isimap
+isimap
+mcopystate
+mcopyingmultiplemessages
+nsmsgkey
+akey
+pruint
+statusoffset
+mcopystate
+mmessage
+getmessagekey
+akey
+mcopystate
+mmessage
+getstatusoffset
+statusoffset
+localundotxn
+addsrckey
+akey
+localundotxn
+addsrcstatusoffset
+statusoffset
+localundotxn
+adddstkey
+mcopystate
+mcurdstkey
+mcopystate
+mdummyenvelopeneeded
+mcopystate
+mfilestream
+seek
+prseekend
+mcopystate
+mfilestream
+msglinebreak
+mcopystate
+mparsemsgstate
+mcopystate
+mparsemsgstate
+parseafolderline
+crlf
+msglinebreaklen
+mcopystate
+mparsemsgstate
+nscomptr
+nsimsgdatabase
+msgdb
+nscomptr
+nsimsgdbhdr
+newhdr
+mcopystate
+mparsemsgstate
+finishheader
+getdatabaseworeparse
+getteraddrefs
+msgdb
+msgdb
+nsresult
+result
+mcopystate
+mparsemsgstate
+getnewmsghdr
+getteraddrefs
+newhdr
+nssucceeded
+result
+newhdr
+mcopystate
+mmessage
+copypropertiestomsghdr
+newhdr
+mcopystate
+mmessage
+msgdb
+addnewhdrtodb
+newhdr
+prtrue
+localundotxn
+pruint
+msgsize
+newhdr
+getmessagesize
+msgsize
+localundotxn
+adddstmsgsize
+msgsize
+mcopystate
+mundomsgtxn
+nsnull
+mcopystate
+mparsemsgstate
+clear
+mcopystate
+mlistener
+mcopystate
+mlistener
+setmessagekey
+pruint
+mcopystate
+mcurdstkey
+multiplecopiesfinished
+mcopystate
+mcopyingmultiplemessages
+nscomptr
+nsisupports
+asupport
+getteraddrefs
+mcopystate
+mmessages
+elementat
+mcopystate
+mcurcopyindex
+rv
+copymessageto
+asupport
+mcopystate
+mmsgwindow
+mcopystate
+mismove
+mcopystate
+mismove
+multiplecopiesfinished
+nscomptr
+nsimsgfolder
+srcfolder
+srcfolder
+doqueryinterface
+mcopystate
+msrcsupport
+mcopystate
+misfolder
+donextsubfolder
+srcfolder
+nsnull
+nsnull
+mcopystate
+mmsgwindow
+mcopystate
+mundomsgtxn
+nscomptr
+nsitransactionmanager
+txnmgr
+mcopystate
+mmsgwindow
+gettransactionmanager
+getteraddrefs
+txnmgr
+txnmgr
+txnmgr
+dotransaction
+mcopystate
+mundomsgtxn
+srcfolder
+mcopystate
+misfolder
+srcfolder
+notifyfolderevent
+mdeleteormovemsgcompletedatom
+oncopycompleted
+mcopystate
+msrcsupport
+prtrue
+enablenotifications
+allmessagecountnotifications
+prtrue
+prfalse
+rv
+nsimethodimp
+nsmsglocalmailfolder
+endmove
+prbool
+movesucceeded
+nsresult
+result
+nsok
+mcopystate
+nsok
+movesucceeded
+mcopystate
+mwritefailed
+nscomptr
+nsimsgfolder
+srcfolder
+doqueryinterface
+mcopystate
+msrcsupport
+srcfolder
+notifyfolderevent
+mdeleteormovemsgfailedatom
+oncopycompleted
+mcopystate
+msrcsupport
+prtrue
+enablenotifications
+allmessagecountnotifications
+prtrue
+prfalse
+nsok
+mcopystate
+mcopystate
+mcurcopyindex
+mcopystate
+mtotalmsgcount
+nscomptr
+nsimsgfolder
+srcfolder
+doqueryinterface
+mcopystate
+msrcsupport
+srcfolder
+result
+srcfolder
+deletemessages
+mcopystate
+mmessages
+mcopystate
+mmsgwindow
+prtrue
+prtrue
+nsnull
+mcopystate
+mallowundo
+srcfolder
+notifyfolderevent
+nssucceeded
+result
+mdeleteormovemsgcompletedatom
+mdeleteormovemsgfailedatom
+enablenotifications
+allmessagecountnotifications
+prtrue
+prfalse
+nssucceeded
+result
+mcopystate
+mmsgwindow
+mcopystate
+mundomsgtxn
+nscomptr
+nsitransactionmanager
+txnmgr
+mcopystate
+mmsgwindow
+gettransactionmanager
+getteraddrefs
+txnmgr
+txnmgr
+txnmgr
+dotransaction
+mcopystate
+mundomsgtxn
+oncopycompleted
+mcopystate
+msrcsupport
+nssucceeded
+result
+prtrue
+prfalse
+nsok
+nsimethodimp
+nsmsglocalmailfolder
+startmessage
+writestartofnewmessage
+nsimethodimp
+nsmsglocalmailfolder
+endmessage
+nsmsgkey
+key
+nscomptr
+nslocalmovecopymsgtxn
+localundotxn
+nscomptr
+nsimsgwindow
+msgwindow
+nsresult
+rv
+mcopystate
+mundomsgtxn
+localundotxn
+doqueryinterface
+mcopystate
+mundomsgtxn
+rv
+nssucceeded
+rv
+localundotxn
+getmsgwindow
+getteraddrefs
+msgwindow
+localundotxn
+localundotxn
+addsrckey
+key
+localundotxn
+adddstkey
+mcopystate
+mcurdstkey
+mcopystate
+mdummyenvelopeneeded
+prtrue
+mcopystate
+mdummyenvelopeneeded
+mcopystate
+mfilestream
+seek
+prseekend
+mcopystate
+mfilestream
+msglinebreak
+mcopystate
+mparsemsgstate
+mcopystate
+mparsemsgstate
+parseafolderline
+crlf
+msglinebreaklen
+mcopystate
+mparsemsgstate
+nsresult
+result
+nscomptr
+nsimsgdatabase
+msgdb
+nscomptr
+nsimsgdbhdr
+newhdr
+mcopystate
+mparsemsgstate
+finishheader
+result
+mcopystate
+mparsemsgstate
+getnewmsghdr
+getteraddrefs
+newhdr
+nssucceeded
+result
+newhdr
+nscomptr
+nsimsgfolder
+srcfolder
+doqueryinterface
+mcopystate
+msrcsupport
+nscomptr
+nsimsgdatabase
+srcdb
+srcfolder
+srcfolder
+getmsgdatabase
+nsnull
+getteraddrefs
+srcdb
+srcdb
+nscomptr
+nsimsgdbhdr
+srcmsghdr
+srcdb
+getmsghdrforkey
+key
+getteraddrefs
+srcmsghdr
+srcmsghdr
+copypropertiestomsghdr
+newhdr
+srcmsghdr
+result
+getdatabaseworeparse
+getteraddrefs
+msgdb
+nssucceeded
+result
+msgdb
+msgdb
+addnewhdrtodb
+newhdr
+prtrue
+localundotxn
+pruint
+msgsize
+newhdr
+getmessagesize
+msgsize
+localundotxn
+adddstmsgsize
+msgsize
+mcopystate
+mundomsgtxn
+nsnull
+mcopystate
+mparsemsgstate
+clear
+mcopystate
+mlistener
+mcopystate
+mlistener
+setmessagekey
+pruint
+mcopystate
+mcurdstkey
+mcopystate
+mfilestream
+mcopystate
+mfilestream
+flush
+nsok
+nsresult
+nsmsglocalmailfolder
+copymessagesto
+nsisupportsarray
+messages
+nsimsgwindow
+amsgwindow
+nsimsgfolder
+dstfolder
+prbool
+ismove
+mcopystate
+nserroroutofmemory
+nsresult
+rv
+nscomptr
+nsicopymessagestreamlistener
+copystreamlistener
+docreateinstance
+nscopymessagestreamlistenercontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsicopymessagelistener
+copylistener
+doqueryinterface
+dstfolder
+copylistener
+nserrornointerface
+nscomptr
+nsimsgfolder
+srcfolder
+doqueryinterface
+mcopystate
+msrcsupport
+srcfolder
+nserrornointerface
+rv
+copystreamlistener
+init
+srcfolder
+copylistener
+nsnull
+nsfailed
+rv
+rv
+mcopystate
+mmessageservice
+nsxpidlcstring
+uri
+srcfolder
+geturi
+gettercopies
+uri
+rv
+getmessageservicefromuri
+uri
+getteraddrefs
+mcopystate
+mmessageservice
+nssucceeded
+rv
+mcopystate
+mmessageservice
+nsmsgkeyarray
+keyarray
+pruint
+nummessages
+messages
+count
+nummessages
+pruint
+nummessages
+nscomptr
+nsimsgdbhdr
+amessage
+doqueryelementat
+messages
+rv
+nssucceeded
+rv
+amessage
+nsmsgkey
+key
+amessage
+getmessagekey
+key
+keyarray
+add
+key
+keyarray
+quicksort
+rv
+sortmessagesbasedonkey
+messages
+keyarray
+srcfolder
+nsensuresuccess
+rv
+rv
+nscomptr
+nsistreamlistener
+streamlistener
+doqueryinterface
+copystreamlistener
+streamlistener
+nserrornointerface
+mcopystate
+mcurcopyindex
+nscomptr
+nsimsglocalmailfolder
+srclocalfolder
+doqueryinterface
+srcfolder
+srclocalfolder
+startmessage
+mcopystate
+mmessageservice
+copymessages
+keyarray
+srcfolder
+streamlistener
+ismove
+nsnull
+amsgwindow
+nsnull
+rv
+nsresult
+nsmsglocalmailfolder
+copymessageto
+nsisupports
+message
+nsimsgfolder
+dstfolder
+nsimsgwindow
+amsgwindow
+prbool
+ismove
+mcopystate
+nserroroutofmemory
+nsresult
+rv
+nscomptr
+nsimsgdbhdr
+msghdr
+doqueryinterface
+message
+msghdr
+nserrorfailure
+mcopystate
+mmessage
+doqueryinterface
+msghdr
+rv
+nscomptr
+nsimsgfolder
+srcfolder
+doqueryinterface
+mcopystate
+msrcsupport
+srcfolder
+nserrornointerface
+nsxpidlcstring
+uri
+srcfolder
+geturiformsg
+msghdr
+gettercopies
+uri
+nscomptr
+nsicopymessagestreamlistener
+copystreamlistener
+docreateinstance
+nscopymessagestreamlistenercontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsicopymessagelistener
+copylistener
+doqueryinterface
+dstfolder
+copylistener
+nserrornointerface
+rv
+copystreamlistener
+init
+srcfolder
+copylistener
+nsnull
+nsfailed
+rv
+rv
+mcopystate
+mmessageservice
+rv
+getmessageservicefromuri
+uri
+getteraddrefs
+mcopystate
+mmessageservice
+nssucceeded
+rv
+mcopystate
+mmessageservice
+nscomptr
+nsistreamlistener
+streamlistener
+doqueryinterface
+copystreamlistener
+streamlistener
+nserrornointerface
+mcopystate
+mmessageservice
+copymessage
+uri
+streamlistener
+ismove
+nsnull
+amsgwindow
+nsnull
+rv
+nsimethodimp
+nsmsglocalmailfolder
+markmsgsonpopserver
+nsisupportsarray
+messages
+prbool
+deletemsgs
+uidl
+header
+pruint
+size
+len
+nscomptr
+nsimsgdbhdr
+hdr
+prbool
+leaveonserver
+prfalse
+prbool
+deletemailleftonserver
+prfalse
+prbool
+changed
+prfalse
+popdata
+nsnull
+nscomptr
+nsipopincomingserver
+popmailserver
+nscomptr
+nsifilespec
+localpath
+nscomptr
+nsifilespec
+mailboxspec
+nscomptr
+nsimsgincomingserver
+server
+nsresult
+rv
+getserver
+getteraddrefs
+server
+nsfailed
+rv
+rv
+server
+nsmsginvalidormissingserver
+server
+getlocalpath
+getteraddrefs
+localpath
+popmailserver
+doqueryinterface
+server
+rv
+nsfailed
+rv
+rv
+popmailserver
+nsmsginvalidormissingserver
+popmailserver
+getdeletemailleftonserver
+deletemailleftonserver
+deletemailleftonserver
+nsok
+popmailserver
+getleavemessagesonserver
+leaveonserver
+rv
+getpath
+getteraddrefs
+mailboxspec
+nsfailed
+rv
+rv
+rv
+mailboxspec
+openstreamforreading
+nsensuresuccess
+rv
+rv
+pruint
+srccount
+messages
+count
+srccount
+nsxpidlcstring
+hostname
+nsxpidlcstring
+username
+server
+gethostname
+gettercopies
+hostname
+server
+getusername
+gettercopies
+username
+header
+prmalloc
+header
+srccount
+uidl
+nsnull
+nscomptr
+nsimsgdbhdr
+msgdbhdr
+doqueryelementat
+messages
+rv
+pruint
+flags
+msgdbhdr
+msgdbhdr
+getflags
+flags
+flags
+msgflagpartial
+leaveonserver
+len
+pruint
+messageoffset
+msgdbhdr
+getmessageoffset
+messageoffset
+rv
+mailboxspec
+seek
+messageoffset
+nsensuresuccess
+rv
+rv
+msgdbhdr
+getmessagesize
+len
+prbool
+wastruncated
+prfalse
+len
+uidl
+size
+len
+size
+size
+rv
+mailboxspec
+readline
+header
+size
+wastruncated
+nssucceeded
+rv
+wastruncated
+size
+strlen
+header
+size
+len
+len
+size
+uidl
+strstr
+header
+xuidl
+len
+uidl
+popdata
+popdata
+readpopdata
+hostname
+username
+localpath
+uidl
+xuidllen
+len
+strlen
+uidl
+lastchar
+uidl
+len
+lastchar
+uidl
+lastchar
+nscrt
+lf
+lastchar
+nscrt
+cr
+lastchar
+lastchar
+netpopmarkifinserver
+popdata
+uidl
+deletemsgs
+changed
+prfree
+header
+popdata
+changed
+savepopdata
+popdata
+localpath
+killpopdata
+popdata
+popdata
+nsnull
+mailboxspec
+closestream
+rv
+nsmsglocalmailfolder
+getincomingservertype
+nsresult
+rv
+mtype
+mtype
+nscomptr
+nsiurl
+url
+docreateinstance
+nsstandardurlcontractid
+rv
+nsfailed
+rv
+rv
+url
+setspec
+nsdependentcstring
+muri
+nsfailed
+rv
+nscautostring
+userpass
+rv
+url
+getuserpass
+userpass
+nsfailed
+rv
+userpass
+isempty
+nsunescape
+nsconstcast
+userpass
+get
+nscautostring
+hostname
+rv
+url
+getasciihost
+hostname
+nsfailed
+rv
+hostname
+isempty
+nsunescape
+nsconstcast
+hostname
+get
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsfailed
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+accountmanager
+findserver
+userpass
+get
+hostname
+get
+none
+getteraddrefs
+server
+nssucceeded
+rv
+server
+mtype
+none
+mtype
+rv
+accountmanager
+findserver
+userpass
+get
+hostname
+get
+pop
+getteraddrefs
+server
+nssucceeded
+rv
+server
+mtype
+pop
+mtype
+ifdef
+havemovemail
+rv
+accountmanager
+findserver
+userpass
+get
+hostname
+get
+movemail
+getteraddrefs
+server
+nssucceeded
+rv
+server
+mtype
+movemail
+mtype
+endif
+nsresult
+nsmsglocalmailfolder
+createbasemessageuri
+auri
+nsresult
+rv
+rv
+nscreatelocalbasemessageuri
+auri
+mbasemessageuri
+rv
+nsimethodimp
+nsmsglocalmailfolder
+onstartrunningurl
+nsiuri
+aurl
+nsresult
+rv
+nscomptr
+nsipopurl
+popurl
+doqueryinterface
+aurl
+rv
+nssucceeded
+rv
+nscautostring
+aspec
+aurl
+getspec
+aspec
+strstr
+aspec
+get
+uidl
+nscomptr
+nsipopsink
+popsink
+rv
+popurl
+getpopsink
+getteraddrefs
+popsink
+nssucceeded
+rv
+popsink
+setbasemessageuri
+mbasemessageuri
+nsmsgdbfolder
+onstartrunningurl
+aurl
+nsimethodimp
+nsmsglocalmailfolder
+onstoprunningurl
+nsiuri
+aurl
+nsresult
+aexitcode
+nssucceeded
+aexitcode
+nsresult
+rv
+nscomptr
+nsimsgmailsession
+mailsession
+dogetservice
+nsmsgmailsessioncontractid
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsimsgwindow
+msgwindow
+rv
+mailsession
+gettopmostmsgwindow
+getteraddrefs
+msgwindow
+nscautostring
+aspec
+aurl
+getspec
+aspec
+strstr
+aspec
+get
+uidl
+nscomptr
+nsipopurl
+popurl
+doqueryinterface
+aurl
+rv
+nssucceeded
+rv
+nsxpidlcstring
+messageuri
+rv
+popurl
+getmessageuri
+gettercopies
+messageuri
+nssucceeded
+rv
+nscomptr
+nsirdfservice
+rdfservice
+dogetservice
+rdf
+rdf
+service
+rv
+nssucceeded
+rv
+nscomptr
+nsimsgdbhdr
+msgdbhdr
+rv
+getmsgdbhdrfromuri
+messageuri
+getteraddrefs
+msgdbhdr
+nssucceeded
+rv
+rv
+mdatabase
+deleteheader
+msgdbhdr
+nsnull
+prtrue
+prtrue
+nscomptr
+nsipopsink
+popsink
+nsxpidlcstring
+newmessageuri
+rv
+popurl
+getpopsink
+getteraddrefs
+popsink
+nssucceeded
+rv
+popsink
+getmessageuri
+gettercopies
+newmessageuri
+msgwindow
+msgwindow
+selectmessage
+newmessageuri
+mflags
+msgfolderflaginbox
+nscomptr
+nsipopurl
+popurl
+doqueryinterface
+aurl
+rv
+nssucceeded
+rv
+nscomptr
+nsimsgincomingserver
+server
+getserver
+getteraddrefs
+server
+server
+server
+setperformingbiff
+prfalse
+mdatabase
+mcheckfornewmessagesafterparsing
+prbool
+valid
+mdatabase
+getsummaryvalid
+valid
+valid
+msgwindow
+rv
+getnewmessages
+msgwindow
+nsnull
+mcheckfornewmessagesafterparsing
+prfalse
+nsmsgdbfolder
+onstoprunningurl
+aurl
+aexitcode
+nsresult
+nsmsglocalmailfolder
+displaymovecopystatusmsg
+nsresult
+rv
+nsok
+mcopystate
+mcopystate
+mstatusfeedback
+nscomptr
+nsimsgwindow
+msgwindow
+nsresult
+rv
+mcopystate
+mundomsgtxn
+nscomptr
+nslocalmovecopymsgtxn
+localundotxn
+localundotxn
+doqueryinterface
+mcopystate
+mundomsgtxn
+rv
+nssucceeded
+rv
+localundotxn
+getmsgwindow
+getteraddrefs
+msgwindow
+nsassertion
+msgwindow
+no
+msg
+window
+msgwindow
+nsok
+msgwindow
+getstatusfeedback
+getteraddrefs
+mcopystate
+mstatusfeedback
+mcopystate
+mstringbundle
+nscomptr
+nsimsgstringservice
+stringservice
+dogetservice
+nsmsgmailboxstringservicecontractid
+rv
+stringservice
+getbundle
+getteraddrefs
+mcopystate
+mstringbundle
+nsassertion
+nssucceeded
+rv
+getbundle
+failed
+nsensuresuccess
+rv
+rv
+mcopystate
+mstatusfeedback
+mcopystate
+mstringbundle
+nsxpidlstring
+finalstring
+nsxpidlstring
+foldername
+getname
+gettercopies
+foldername
+print
+statusmsgid
+mcopystate
+mismove
+movingmsgsstatus
+copyingmsgsstatus
+nsautostring
+nummsgsofarstring
+nummsgsofarstring
+appendint
+mcopystate
+mcopyingmultiplemessages
+mcopystate
+mcurcopyindex
+nsautostring
+totalmessagesstring
+totalmessagesstring
+appendint
+mcopystate
+mtotalmsgcount
+prunichar
+stringarray
+nummsgsofarstring
+get
+totalmessagesstring
+get
+foldername
+get
+rv
+mcopystate
+mstringbundle
+formatstringfromid
+statusmsgid
+stringarray
+gettercopies
+finalstring
+print
+minintervalbetweenprogress
+print
+nowms
+llzero
+llil
+minintervalbetweenprogress
+print
+diffsincelastprogress
+llil
+nowms
+printervaltomilliseconds
+printervalnow
+llsub
+diffsincelastprogress
+nowms
+mcopystate
+mlastprogresstime
+llsub
+diffsincelastprogress
+diffsincelastprogress
+minintervalbetweenprogress
+llgezero
+diffsincelastprogress
+mcopystate
+mcurcopyindex
+mcopystate
+mtotalmsgcount
+nsok
+mcopystate
+mlastprogresstime
+nowms
+mcopystate
+mstatusfeedback
+showstatusstring
+finalstring
+mcopystate
+mstatusfeedback
+showprogress
+mcopystate
+mcurcopyindex
+mcopystate
+mtotalmsgcount
+rv
+nsimethodimp
+nsmsglocalmailfolder
+setflagsondefaultmailboxes
+pruint
+flags
+flags
+msgfolderflaginbox
+setsubfolderflag
+nsliteralstring
+inbox
+get
+msgfolderflaginbox
+flags
+msgfolderflagsentmail
+setsubfolderflag
+nsliteralstring
+sent
+get
+msgfolderflagsentmail
+flags
+msgfolderflagdrafts
+setsubfolderflag
+nsliteralstring
+drafts
+get
+msgfolderflagdrafts
+flags
+msgfolderflagtemplates
+setsubfolderflag
+nsliteralstring
+templates
+get
+msgfolderflagtemplates
+flags
+msgfolderflagtrash
+setsubfolderflag
+nsliteralstring
+trash
+get
+msgfolderflagtrash
+flags
+msgfolderflagqueue
+setsubfolderflag
+nsliteralstring
+unsent
+messages
+get
+msgfolderflagqueue
+flags
+msgfolderflagjunk
+setsubfolderflag
+nsliteralstring
+junk
+get
+msgfolderflagjunk
+nsok
+nsresult
+nsmsglocalmailfolder
+setsubfolderflag
+prunichar
+afoldername
+pruint
+flags
+nsxpidlcstring
+escapedfoldername
+nsresult
+rv
+nsmsgescapeencodeurlpath
+afoldername
+gettercopies
+escapedfoldername
+nsensuresuccess
+rv
+rv
+nscomptr
+nsifolder
+folder
+rv
+findsubfolder
+escapedfoldername
+getteraddrefs
+folder
+nsfailed
+rv
+rv
+folder
+nserrorfailure
+nscomptr
+nsimsgfolder
+msgfolder
+doqueryinterface
+folder
+msgfolder
+nserrorfailure
+rv
+msgfolder
+setflag
+flags
+nsfailed
+rv
+rv
+msgfolder
+setprettyname
+afoldername
+nsok
+nsimethodimp
+nsmsglocalmailfolder
+getcheckfornewmessagesafterparsing
+prbool
+acheckfornewmessagesafterparsing
+nsensurearg
+acheckfornewmessagesafterparsing
+acheckfornewmessagesafterparsing
+mcheckfornewmessagesafterparsing
+nsok
+nsimethodimp
+nsmsglocalmailfolder
+setcheckfornewmessagesafterparsing
+prbool
+acheckfornewmessagesafterparsing
+mcheckfornewmessagesafterparsing
+acheckfornewmessagesafterparsing
+nsok
+nsimethodimp
+nsmsglocalmailfolder
+notifycompactcompleted
+refreshsizeondisk
+nscomptr
+nsiatom
+compactcompletedatom
+compactcompletedatom
+getteraddrefs
+nsnewatom
+compactcompleted
+notifyfolderevent
+compactcompletedatom
+nsok
+nsimethodimp
+nsmsglocalmailfolder
+shutdown
+prbool
+shutdownchildren
+minitialized
+prfalse
+nsmsgdbfolder
+shutdown
+shutdownchildren
+nsresult
+nsmsglocalmailfolder
+spamfilterclassifymessage
+auri
+nsimsgwindow
+amsgwindow
+nsijunkmailplugin
+ajunkmailplugin
+mnumfilterclassifyrequests
+ajunkmailplugin
+classifymessage
+auri
+amsgwindow
+nsresult
+nsmsglocalmailfolder
+spamfilterclassifymessages
+auriarray
+pruint
+auricount
+nsimsgwindow
+amsgwindow
+nsijunkmailplugin
+ajunkmailplugin
+mnumfilterclassifyrequests
+auricount
+ajunkmailplugin
+classifymessages
+auricount
+auriarray
+amsgwindow
+nsimethodimp
+nsmsglocalmailfolder
+onmessageclassified
+amsguri
+nsmsgjunkstatus
+aclassification
+nscomptr
+nsimsgincomingserver
+server
+nsresult
+rv
+getserver
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgdbhdr
+msghdr
+rv
+getmsgdbhdrfromuri
+amsguri
+getteraddrefs
+msghdr
+nsensuresuccess
+rv
+rv
+nsmsgkey
+msgkey
+rv
+msghdr
+getmessagekey
+msgkey
+nsensuresuccess
+rv
+rv
+mdatabase
+setstringproperty
+msgkey
+junkscore
+aclassification
+nsijunkmailplugin
+junk
+mdatabase
+setstringproperty
+msgkey
+junkscoreorigin
+plugin
+nscomptr
+nsispamsettings
+spamsettings
+prbool
+moveonspam
+prfalse
+rv
+getserver
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+rv
+server
+getspamsettings
+getteraddrefs
+spamsettings
+nsensuresuccess
+rv
+rv
+aclassification
+nsijunkmailplugin
+junk
+prbool
+willmovemessage
+prfalse
+mflags
+msgfolderflagjunk
+mflags
+msgfolderflagtrash
+rv
+spamsettings
+getmoveonspam
+moveonspam
+nsensuresuccess
+rv
+rv
+moveonspam
+nsxpidlcstring
+uristr
+rv
+spamsettings
+getspamfolderuri
+gettercopies
+uristr
+nsensuresuccess
+rv
+rv
+mspamfolderuri
+uristr
+nscomptr
+nsimsgfolder
+folder
+rv
+getexistingfolder
+mspamfolderuri
+get
+getteraddrefs
+folder
+nssucceeded
+rv
+folder
+rv
+folder
+setflag
+msgfolderflagjunk
+nsensuresuccess
+rv
+rv
+mspamkeystomove
+add
+msgkey
+willmovemessage
+prtrue
+rv
+getorcreatefolder
+mspamfolderuri
+nsnull
+nsassertion
+nssucceeded
+rv
+getorcreatefolder
+failed
+rv
+spamsettings
+logjunkhit
+msghdr
+willmovemessage
+nsensuresuccess
+rv
+rv
+mnumfilterclassifyrequests
+mspamkeystomove
+getsize
+mspamfolderuri
+isempty
+nscomptr
+nsimsgfolder
+folder
+rv
+getexistingfolder
+mspamfolderuri
+get
+getteraddrefs
+folder
+nssucceeded
+rv
+folder
+nscomptr
+nsisupportsarray
+messages
+nsnewisupportsarray
+getteraddrefs
+messages
+pruint
+keyindex
+keyindex
+mspamkeystomove
+getsize
+keyindex
+nscomptr
+nsimsgdbhdr
+mailhdr
+nsnull
+rv
+getmessageheader
+mspamkeystomove
+elementat
+keyindex
+getteraddrefs
+mailhdr
+nssucceeded
+rv
+mailhdr
+nscomptr
+nsisupports
+isupports
+doqueryinterface
+mailhdr
+messages
+appendelement
+isupports
+nscomptr
+nsimsgcopyservice
+copysvc
+dogetservice
+nsmsgcopyservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+copysvc
+copymessages
+messages
+folder
+prtrue
+nsnull
+nsnull
+prfalse
+nsassertion
+nssucceeded
+rv
+copymessages
+failed
+mspamkeystomove
+removeall
+nsok
\ No newline at end of file
@@ -0,0 +1,98 @@
+prprf
+prmem
+nscomptr
+nsstring
+nsistringbundle
+nslocalstringbundle
+nsiservicemanager
+nsiuri
+define
+localmsgsurl
+messenger
+locale
+localmsgs
+properties
+nslocalstringservice
+nslocalstringservice
+nslocalstringservice
+nslocalstringservice
+nsimpladdref
+nslocalstringservice
+nsimplrelease
+nslocalstringservice
+nsinterfacemapbegin
+nslocalstringservice
+nsinterfacemapentryambiguous
+nsisupports
+nsimsgstringservice
+nsinterfacemapentry
+nsimsgstringservice
+nsinterfacemapend
+nsimethodimp
+nslocalstringservice
+getstringbyid
+print
+astringid
+prunichar
+astring
+nsresult
+rv
+nsok
+mlocalstringbundle
+rv
+initializestringbundle
+nsensuretrue
+mlocalstringbundle
+nserrorunexpected
+nsensuresuccess
+mlocalstringbundle
+getstringfromid
+astringid
+astring
+nserrorunexpected
+rv
+nsimethodimp
+nslocalstringservice
+getbundle
+nsistringbundle
+aresult
+nsensureargpointer
+aresult
+nsresult
+rv
+nsok
+mlocalstringbundle
+rv
+initializestringbundle
+nsensuresuccess
+rv
+rv
+aresult
+mlocalstringbundle
+nsifaddref
+aresult
+nsok
+nsresult
+nslocalstringservice
+initializestringbundle
+nsresult
+rv
+nscomptr
+nsistringbundleservice
+stringservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsensuresuccess
+rv
+rv
+nsensuretrue
+stringservice
+nserrorfailure
+rv
+stringservice
+createbundle
+localmsgsurl
+getteraddrefs
+mlocalstringbundle
+rv
\ No newline at end of file
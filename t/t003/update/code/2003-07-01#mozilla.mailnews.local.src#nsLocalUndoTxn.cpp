@@ -0,0 +1,852 @@
+msgcore
+nsimsghdr
+nslocalundotxn
+nsimapcore
+nsmsgimapcid
+nsiimapservice
+nsiurllistener
+nsimsglocalmailfolder
+nsieventqueueservice
+nsimsgmailsession
+nsdefinecid
+kmailboxservicecid
+nsimailboxserviceiid
+nsdefinecid
+keventqueueservicecid
+nseventqueueservicecid
+nslocalmovecopymsgtxn
+nslocalmovecopymsgtxn
+mismove
+prfalse
+msrcisimap
+prfalse
+init
+nsnull
+nsnull
+prfalse
+nslocalmovecopymsgtxn
+nslocalmovecopymsgtxn
+nsimsgfolder
+srcfolder
+nsimsgfolder
+dstfolder
+prbool
+ismove
+mismove
+prfalse
+msrcisimap
+prfalse
+init
+srcfolder
+dstfolder
+ismove
+nslocalmovecopymsgtxn
+nslocalmovecopymsgtxn
+nsimpladdrefinherited
+nslocalmovecopymsgtxn
+nsmsgtxn
+nsimplreleaseinherited
+nslocalmovecopymsgtxn
+nsmsgtxn
+nsimethodimp
+nslocalmovecopymsgtxn
+queryinterface
+refnsiid
+aiid
+ainstanceptr
+ainstanceptr
+nserrornullpointer
+ainstanceptr
+nsnull
+aiid
+equals
+nsgetiid
+nslocalmovecopymsgtxn
+ainstanceptr
+nsstaticcast
+nslocalmovecopymsgtxn
+ainstanceptr
+nsaddrefthis
+nsok
+nsmsgtxn
+queryinterface
+aiid
+ainstanceptr
+nsresult
+nslocalmovecopymsgtxn
+init
+nsimsgfolder
+srcfolder
+nsimsgfolder
+dstfolder
+prbool
+ismove
+nsresult
+rv
+rv
+setsrcfolder
+srcfolder
+rv
+setdstfolder
+dstfolder
+mismove
+ismove
+mundofolderlistener
+nsnull
+nsxpidlcstring
+uri
+srcfolder
+rv
+rv
+srcfolder
+geturi
+gettercopies
+uri
+nscstring
+protocoltype
+uri
+protocoltype
+setlength
+protocoltype
+findchar
+protocoltype
+equalsignorecase
+imap
+msrcisimap
+prtrue
+nsok
+nsresult
+nslocalmovecopymsgtxn
+getsrcisimap
+prbool
+isimap
+isimap
+msrcisimap
+nsok
+nsresult
+nslocalmovecopymsgtxn
+setsrcfolder
+nsimsgfolder
+srcfolder
+nsresult
+rv
+nserrornullpointer
+srcfolder
+msrcfolder
+getteraddrefs
+nsgetweakreference
+srcfolder
+rv
+rv
+nsresult
+nslocalmovecopymsgtxn
+setdstfolder
+nsimsgfolder
+dstfolder
+nsresult
+rv
+nserrornullpointer
+dstfolder
+mdstfolder
+getteraddrefs
+nsgetweakreference
+dstfolder
+rv
+rv
+nsresult
+nslocalmovecopymsgtxn
+addsrckey
+nsmsgkey
+akey
+msrckeyarray
+add
+akey
+nsok
+nsresult
+nslocalmovecopymsgtxn
+addsrcstatusoffset
+pruint
+astatusoffset
+msrcstatusoffsetarray
+add
+astatusoffset
+nsok
+nsresult
+nslocalmovecopymsgtxn
+adddstkey
+nsmsgkey
+akey
+mdstkeyarray
+add
+akey
+nsok
+nsresult
+nslocalmovecopymsgtxn
+adddstmsgsize
+pruint
+msgsize
+mdstsizearray
+add
+msgsize
+nsok
+nsresult
+nslocalmovecopymsgtxn
+undoimapdeleteflag
+nsimsgfolder
+folder
+nsmsgkeyarray
+keyarray
+prbool
+deleteflag
+nsresult
+rv
+nserrorfailure
+msrcisimap
+nscomptr
+nsiimapservice
+imapservice
+dogetservice
+nsimapservicecontractid
+rv
+nssucceeded
+rv
+nscomptr
+nsiurllistener
+urllistener
+nscstring
+msgids
+pruint
+count
+keyarray
+getsize
+urllistener
+doqueryinterface
+folder
+rv
+count
+msgids
+isempty
+msgids
+append
+msgids
+appendint
+print
+keyarray
+getat
+nscomptr
+nsieventqueue
+eventqueue
+nscomptr
+nsieventqueueservice
+peventqservice
+dogetservice
+keventqueueservicecid
+rv
+nssucceeded
+rv
+peventqservice
+peventqservice
+getthreadeventqueue
+nscurrentthread
+getteraddrefs
+eventqueue
+eventqueue
+rv
+imapservice
+liteselectfolder
+eventqueue
+folder
+urllistener
+nsnull
+deleteflag
+rv
+imapservice
+addmessageflags
+eventqueue
+folder
+urllistener
+nsnull
+msgids
+get
+kimapmsgdeletedflag
+prtrue
+rv
+imapservice
+subtractmessageflags
+eventqueue
+folder
+urllistener
+nsnull
+msgids
+get
+kimapmsgdeletedflag
+prtrue
+nssucceeded
+rv
+mmsgwindow
+folder
+updatefolder
+mmsgwindow
+rv
+nsok
+rv
+nserrorfailure
+rv
+nsimethodimp
+nslocalmovecopymsgtxn
+undotransaction
+nsresult
+rv
+nscomptr
+nsimsgdatabase
+dstdb
+nscomptr
+nsimsgfolder
+dstfolder
+doqueryreferent
+mdstfolder
+rv
+nsfailed
+rv
+dstfolder
+rv
+nscomptr
+nsimsglocalmailfolder
+dstlocalmailfolder
+doqueryreferent
+mdstfolder
+rv
+nsfailed
+rv
+dstlocalmailfolder
+rv
+dstlocalmailfolder
+getdatabaseworeparse
+getteraddrefs
+dstdb
+dstdb
+mundofolderlistener
+nslocalundofolderlistener
+dstfolder
+mundofolderlistener
+nserroroutofmemory
+nsaddref
+mundofolderlistener
+nscomptr
+nsimsgmailsession
+mailsession
+dogetservice
+nsmsgmailsessioncontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+mailsession
+addfolderlistener
+mundofolderlistener
+nsifolderlistener
+event
+nsensuresuccess
+rv
+rv
+rv
+dstfolder
+getmsgdatabase
+nsnull
+getteraddrefs
+dstdb
+nsensuresuccess
+rv
+rv
+rv
+undotransactioninternal
+rv
+nsresult
+nslocalmovecopymsgtxn
+undotransactioninternal
+nsresult
+rv
+nserrorfailure
+mundofolderlistener
+nscomptr
+nsimsgmailsession
+mailsession
+dogetservice
+nsmsgmailsessioncontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+mailsession
+removefolderlistener
+mundofolderlistener
+nsensuresuccess
+rv
+rv
+nsrelease
+mundofolderlistener
+mundofolderlistener
+nsnull
+nscomptr
+nsimsgdatabase
+srcdb
+nscomptr
+nsimsgdatabase
+dstdb
+nscomptr
+nsimsgfolder
+srcfolder
+doqueryreferent
+msrcfolder
+rv
+nsfailed
+rv
+srcfolder
+rv
+nscomptr
+nsimsgfolder
+dstfolder
+doqueryreferent
+mdstfolder
+rv
+nsfailed
+rv
+dstfolder
+rv
+rv
+srcfolder
+getmsgdatabase
+nsnull
+getteraddrefs
+srcdb
+nsfailed
+rv
+rv
+rv
+dstfolder
+getmsgdatabase
+nsnull
+getteraddrefs
+dstdb
+nsfailed
+rv
+rv
+pruint
+count
+msrckeyarray
+getsize
+pruint
+nscomptr
+nsimsgdbhdr
+oldhdr
+nscomptr
+nsimsgdbhdr
+newhdr
+nsassertion
+count
+no
+source
+keys
+count
+nserrorunexpected
+mismove
+msrcisimap
+prbool
+deleteflag
+prtrue
+checkfortoggledelete
+srcfolder
+msrckeyarray
+getat
+deleteflag
+rv
+undoimapdeleteflag
+srcfolder
+msrckeyarray
+deleteflag
+nscomptr
+nsisupportsarray
+srcmessages
+nsnewisupportsarray
+getteraddrefs
+srcmessages
+nscomptr
+nsisupports
+msgsupports
+count
+rv
+dstdb
+getmsghdrforkey
+mdstkeyarray
+getat
+getteraddrefs
+oldhdr
+nsassertion
+oldhdr
+fatal
+cannot
+get
+old
+msg
+header
+nssucceeded
+rv
+oldhdr
+rv
+srcdb
+copyhdrfromexistinghdr
+msrckeyarray
+getat
+oldhdr
+prtrue
+getteraddrefs
+newhdr
+nsassertion
+newhdr
+fatal
+cannot
+create
+msg
+header
+nssucceeded
+rv
+newhdr
+newhdr
+setstatusoffset
+msrcstatusoffsetarray
+getat
+srcdb
+undodelete
+newhdr
+msgsupports
+doqueryinterface
+newhdr
+srcmessages
+appendelement
+msgsupports
+nscomptr
+nsimsglocalmailfolder
+localfolder
+doqueryinterface
+srcfolder
+localfolder
+localfolder
+markmsgsonpopserver
+srcmessages
+prfalse
+srcdb
+setsummaryvalid
+prtrue
+srcdb
+commit
+nsmsgdbcommittype
+klargecommit
+dstdb
+deletemessages
+mdstkeyarray
+nsnull
+dstdb
+setsummaryvalid
+prtrue
+dstdb
+commit
+nsmsgdbcommittype
+klargecommit
+rv
+nsimethodimp
+nslocalmovecopymsgtxn
+redotransaction
+nsresult
+rv
+nserrorfailure
+nscomptr
+nsimsgdatabase
+srcdb
+nscomptr
+nsimsgdatabase
+dstdb
+nscomptr
+nsimsgfolder
+srcfolder
+doqueryreferent
+msrcfolder
+rv
+nsfailed
+rv
+srcfolder
+rv
+nscomptr
+nsimsgfolder
+dstfolder
+doqueryreferent
+mdstfolder
+rv
+nsfailed
+rv
+dstfolder
+rv
+rv
+srcfolder
+getmsgdatabase
+nsnull
+getteraddrefs
+srcdb
+nsfailed
+rv
+rv
+rv
+dstfolder
+getmsgdatabase
+nsnull
+getteraddrefs
+dstdb
+nsfailed
+rv
+rv
+pruint
+count
+msrckeyarray
+getsize
+pruint
+nscomptr
+nsimsgdbhdr
+oldhdr
+nscomptr
+nsimsgdbhdr
+newhdr
+nscomptr
+nsisupportsarray
+srcmessages
+nsnewisupportsarray
+getteraddrefs
+srcmessages
+nscomptr
+nsisupports
+msgsupports
+count
+rv
+srcdb
+getmsghdrforkey
+msrckeyarray
+getat
+getteraddrefs
+oldhdr
+nsassertion
+oldhdr
+fatal
+cannot
+get
+old
+msg
+header
+nssucceeded
+rv
+oldhdr
+msgsupports
+doqueryinterface
+oldhdr
+srcmessages
+appendelement
+msgsupports
+rv
+dstdb
+copyhdrfromexistinghdr
+mdstkeyarray
+getat
+oldhdr
+prtrue
+getteraddrefs
+newhdr
+nsassertion
+newhdr
+fatal
+cannot
+get
+msg
+header
+nssucceeded
+rv
+newhdr
+mdstsizearray
+getsize
+rv
+newhdr
+setmessagesize
+mdstsizearray
+getat
+dstdb
+undodelete
+newhdr
+dstdb
+setsummaryvalid
+prtrue
+dstdb
+commit
+nsmsgdbcommittype
+klargecommit
+mismove
+msrcisimap
+nsassertion
+msrckeyarray
+getsize
+no
+source
+keys
+msrckeyarray
+getsize
+nserrorunexpected
+prbool
+deleteflag
+prfalse
+checkfortoggledelete
+srcfolder
+msrckeyarray
+getat
+deleteflag
+rv
+undoimapdeleteflag
+srcfolder
+msrckeyarray
+deleteflag
+nscomptr
+nsimsglocalmailfolder
+localfolder
+doqueryinterface
+srcfolder
+localfolder
+localfolder
+markmsgsonpopserver
+srcmessages
+prtrue
+rv
+srcdb
+deletemessages
+msrckeyarray
+nsnull
+srcdb
+setsummaryvalid
+prtrue
+srcdb
+commit
+nsmsgdbcommittype
+klargecommit
+rv
+nsimplisupports
+nslocalundofolderlistener
+nsifolderlistener
+nslocalundofolderlistener
+nslocalundofolderlistener
+nslocalmovecopymsgtxn
+atxn
+nsimsgfolder
+afolder
+mtxn
+atxn
+mfolder
+afolder
+nslocalundofolderlistener
+nslocalundofolderlistener
+nsimethodimp
+nslocalundofolderlistener
+onitemadded
+nsisupports
+parentitem
+nsisupports
+item
+viewstring
+nsok
+nsimethodimp
+nslocalundofolderlistener
+onitemremoved
+nsisupports
+parentitem
+nsisupports
+item
+viewstring
+nsok
+nsimethodimp
+nslocalundofolderlistener
+onitempropertychanged
+nsisupports
+item
+nsiatom
+property
+oldvalue
+newvalue
+nsok
+nsimethodimp
+nslocalundofolderlistener
+onitemintpropertychanged
+nsisupports
+item
+nsiatom
+property
+print
+oldvalue
+print
+newvalue
+nsok
+nsimethodimp
+nslocalundofolderlistener
+onitemboolpropertychanged
+nsisupports
+item
+nsiatom
+property
+prbool
+oldvalue
+prbool
+newvalue
+nsok
+nsimethodimp
+nslocalundofolderlistener
+onitemunicharpropertychanged
+nsisupports
+item
+nsiatom
+property
+prunichar
+oldvalue
+prunichar
+newvalue
+nsok
+nsimethodimp
+nslocalundofolderlistener
+onitempropertyflagchanged
+nsisupports
+item
+nsiatom
+property
+pruint
+oldflag
+pruint
+newflag
+nsok
+nsimethodimp
+nslocalundofolderlistener
+onitemevent
+nsifolder
+item
+nsiatom
+event
+nscomptr
+nsiatom
+folderloadedatom
+dogetatom
+folderloaded
+nscomptr
+nsimsgfolder
+itemfolder
+doqueryinterface
+item
+mtxn
+mfolder
+folderloadedatom
+event
+item
+mfolder
+mtxn
+undotransactioninternal
+nserrorfailure
\ No newline at end of file
@@ -0,0 +1,1037 @@
+msgcore
+nscomptr
+nsmailboxservice
+nsimsgmailsession
+nsmailboxurl
+nsimsgmailnewsurl
+nsmailboxprotocol
+nsimsgdatabase
+nsmsgdbcid
+nsmsgkeyarray
+nslocalutils
+nsmsglocalcid
+nsmsgbasecid
+nsidocshell
+nsipopservice
+nsmsgutils
+nsistreamconverterservice
+nsnetutil
+nsidocshellloadinfo
+nsiwebnavigation
+prprf
+nsescape
+nsimsghdr
+nsdefinecid
+kcmailboxurl
+nsmailboxurlcid
+nsdefinecid
+kcmaildb
+nsmaildbcid
+nsdefinecid
+kcpopservicecid
+nspopservicecid
+nsmailboxservice
+nsmailboxservice
+mprintingoperation
+prfalse
+nsmailboxservice
+nsmailboxservice
+nsimplisupports
+nsmailboxservice
+nsimailboxservice
+nsimsgmessageservice
+nsiprotocolhandler
+nsimsgmessagefetchpartservice
+nsresult
+nsmailboxservice
+parsemailbox
+nsimsgwindow
+amsgwindow
+nsfilespec
+amailboxpath
+nsistreamlistener
+amailboxparser
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+nscomptr
+nsimailboxurl
+mailboxurl
+nsresult
+rv
+nsok
+rv
+nscomponentmanager
+createinstance
+kcmailboxurl
+nsnull
+nsgetiid
+nsimailboxurl
+getteraddrefs
+mailboxurl
+nssucceeded
+rv
+mailboxurl
+nscomptr
+nsimsgmailnewsurl
+url
+doqueryinterface
+mailboxurl
+nsfilepath
+filepath
+amailboxpath
+url
+setupdatingfolder
+prtrue
+url
+setmsgwindow
+amsgwindow
+temp
+prsmprintf
+mailbox
+filepath
+url
+setspec
+nsdependentcstring
+temp
+prfree
+temp
+mailboxurl
+setmailboxparser
+amailboxparser
+aurllistener
+url
+registerlistener
+aurllistener
+runmailboxurl
+url
+nsnull
+aurl
+aurl
+url
+nsifaddref
+aurl
+rv
+nsresult
+nsmailboxservice
+copymessage
+asrcmailboxuri
+nsistreamlistener
+amailboxcopyhandler
+prbool
+movemessage
+nsiurllistener
+aurllistener
+nsimsgwindow
+amsgwindow
+nsiuri
+aurl
+nsmailboxaction
+mailboxaction
+nsimailboxurl
+actionmovemessage
+movemessage
+mailboxaction
+nsimailboxurl
+actioncopymessage
+fetchmessage
+asrcmailboxuri
+amailboxcopyhandler
+amsgwindow
+aurllistener
+nsnull
+mailboxaction
+nsnull
+aurl
+nsresult
+nsmailboxservice
+copymessages
+nsmsgkeyarray
+msgkeys
+nsimsgfolder
+srcfolder
+nsistreamlistener
+amailboxcopyhandler
+prbool
+movemessage
+nsiurllistener
+aurllistener
+nsimsgwindow
+amsgwindow
+nsiuri
+aurl
+nsresult
+rv
+nsok
+nsensurearg
+srcfolder
+nscomptr
+nsimailboxurl
+mailboxurl
+nsmailboxaction
+actiontouse
+nsimailboxurl
+actionmovemessage
+movemessage
+actiontouse
+nsimailboxurl
+actioncopymessage
+nscomptr
+nsimsgdbhdr
+msghdr
+nscomptr
+nsimsgdatabase
+db
+srcfolder
+getmsgdatabase
+amsgwindow
+getteraddrefs
+db
+db
+db
+getmsghdrforkey
+msgkeys
+getat
+getteraddrefs
+msghdr
+msghdr
+nsxpidlcstring
+uri
+srcfolder
+geturiformsg
+msghdr
+gettercopies
+uri
+rv
+preparemessageurl
+uri
+aurllistener
+actiontouse
+getteraddrefs
+mailboxurl
+amsgwindow
+nssucceeded
+rv
+nscomptr
+nsiuri
+url
+doqueryinterface
+mailboxurl
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+url
+nscomptr
+nsimailboxurl
+mailboxurl
+doqueryinterface
+url
+msgurl
+setmsgwindow
+amsgwindow
+mailboxurl
+setmovecopymsgkeys
+msgkeys
+getarray
+msgkeys
+getsize
+rv
+runmailboxurl
+url
+amailboxcopyhandler
+aurl
+mailboxurl
+queryinterface
+nsgetiid
+nsiuri
+aurl
+rv
+nsresult
+nsmailboxservice
+fetchmessage
+amessageuri
+nsisupports
+adisplayconsumer
+nsimsgwindow
+amsgwindow
+nsiurllistener
+aurllistener
+afilename
+nsmailboxaction
+mailboxaction
+acharsetoverride
+nsiuri
+aurl
+nsresult
+rv
+nsok
+nscomptr
+nsimailboxurl
+mailboxurl
+nsmailboxaction
+actiontouse
+mailboxaction
+rv
+preparemessageurl
+amessageuri
+aurllistener
+actiontouse
+getteraddrefs
+mailboxurl
+amsgwindow
+nssucceeded
+rv
+nscomptr
+nsiuri
+url
+doqueryinterface
+mailboxurl
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+url
+msgurl
+setmsgwindow
+amsgwindow
+nscomptr
+nsimsginurl
+inurl
+doqueryinterface
+msgurl
+inurl
+setcharsetoverride
+acharsetoverride
+afilename
+msgurl
+setfilename
+nsdependentcstring
+afilename
+nscomptr
+nsidocshell
+docshell
+doqueryinterface
+adisplayconsumer
+rv
+nssucceeded
+rv
+docshell
+nscomptr
+nsidocshellloadinfo
+loadinfo
+mailboxaction
+nsimailboxurl
+actionfetchpart
+docshell
+createloadinfo
+getteraddrefs
+loadinfo
+loadinfo
+setloadtype
+nsidocshellloadinfo
+loadlink
+rv
+docshell
+loaduri
+url
+loadinfo
+nsiwebnavigation
+loadflagsnone
+prfalse
+rv
+runmailboxurl
+url
+adisplayconsumer
+aurl
+mailboxurl
+queryinterface
+nsgetiid
+nsiuri
+aurl
+rv
+nsimethodimp
+nsmailboxservice
+fetchmimepart
+nsiuri
+auri
+amessageuri
+nsisupports
+adisplayconsumer
+nsimsgwindow
+amsgwindow
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+auri
+msgurl
+setmsgwindow
+amsgwindow
+aurllistener
+msgurl
+registerlistener
+aurllistener
+runmailboxurl
+msgurl
+adisplayconsumer
+nsimethodimp
+nsmailboxservice
+displaymessage
+amessageuri
+nsisupports
+adisplayconsumer
+nsimsgwindow
+amsgwindow
+nsiurllistener
+aurllistener
+acharsetoveride
+nsiuri
+aurl
+fetchmessage
+amessageuri
+adisplayconsumer
+amsgwindow
+aurllistener
+nsnull
+nsimailboxurl
+actionfetchmessage
+acharsetoveride
+aurl
+nsimethodimp
+nsmailboxservice
+streammessage
+amessageuri
+nsisupports
+aconsumer
+nsimsgwindow
+amsgwindow
+nsiurllistener
+aurllistener
+prbool
+aadditionalheader
+nsiuri
+aurl
+nscautostring
+auristring
+amessageuri
+aadditionalheader
+auristring
+findchar
+knotfound
+auristring
+auristring
+auristring
+header
+auristring
+aadditionalheader
+fetchmessage
+auristring
+get
+aconsumer
+amsgwindow
+aurllistener
+nsnull
+nsimailboxurl
+actionfetchmessage
+nsnull
+aurl
+nsimethodimp
+nsmailboxservice
+openattachment
+acontenttype
+afilename
+aurl
+amessageuri
+nsisupports
+adisplayconsumer
+nsimsgwindow
+amsgwindow
+nsiurllistener
+aurllistener
+nscautostring
+partmsgurl
+amessageuri
+partmsgurl
+part
+plstrstr
+aurl
+part
+partmsgurl
+part
+partmsgurl
+type
+partmsgurl
+acontenttype
+partmsgurl
+filename
+partmsgurl
+afilename
+fetchmessage
+partmsgurl
+get
+adisplayconsumer
+amsgwindow
+aurllistener
+afilename
+nsimailboxurl
+actionfetchpart
+nsnull
+nsnull
+nsimethodimp
+nsmailboxservice
+savemessagetodisk
+amessageuri
+nsifilespec
+afile
+prbool
+aadddummyenvelope
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+prbool
+canonicallineending
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+nsok
+nscomptr
+nsimailboxurl
+mailboxurl
+rv
+preparemessageurl
+amessageuri
+aurllistener
+nsimailboxurl
+actionsavemessagetodisk
+getteraddrefs
+mailboxurl
+amsgwindow
+nssucceeded
+rv
+nscomptr
+nsimsgmessageurl
+msgurl
+doqueryinterface
+mailboxurl
+msgurl
+msgurl
+setmessagefile
+afile
+msgurl
+setadddummyenvelope
+aadddummyenvelope
+msgurl
+setcanonicallineending
+canonicallineending
+nscomptr
+nsiuri
+url
+doqueryinterface
+mailboxurl
+rv
+runmailboxurl
+url
+aurl
+mailboxurl
+queryinterface
+nsgetiid
+nsiuri
+aurl
+rv
+nsimethodimp
+nsmailboxservice
+geturlforuri
+amessageuri
+nsiuri
+aurl
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+nsok
+nscomptr
+nsimailboxurl
+mailboxurl
+rv
+preparemessageurl
+amessageuri
+nsnull
+nsimailboxurl
+actionfetchmessage
+getteraddrefs
+mailboxurl
+amsgwindow
+nssucceeded
+rv
+mailboxurl
+rv
+mailboxurl
+queryinterface
+nsgetiid
+nsiuri
+aurl
+rv
+nsresult
+nsmailboxservice
+runmailboxurl
+nsiuri
+amailboxurl
+nsisupports
+adisplayconsumer
+nsresult
+rv
+nsok
+nsmailboxprotocol
+protocol
+nsmailboxprotocol
+amailboxurl
+protocol
+rv
+protocol
+initialize
+amailboxurl
+nsfailed
+rv
+protocol
+rv
+nsaddref
+protocol
+rv
+protocol
+loadurl
+amailboxurl
+adisplayconsumer
+nsrelease
+protocol
+rv
+nsresult
+nsmailboxservice
+preparemessageurl
+asrcmsgmailboxuri
+nsiurllistener
+aurllistener
+nsmailboxaction
+amailboxaction
+nsimailboxurl
+amailboxurl
+nsimsgwindow
+msgwindow
+nsresult
+rv
+nsok
+rv
+nscomponentmanager
+createinstance
+kcmailboxurl
+nsnull
+nsgetiid
+nsimailboxurl
+amailboxurl
+nssucceeded
+rv
+amailboxurl
+amailboxurl
+urlspec
+nscautostring
+folderuri
+nsfilespec
+folderpath
+nsmsgkey
+msgkey
+part
+plstrstr
+asrcmsgmailboxuri
+part
+header
+plstrstr
+asrcmsgmailboxuri
+header
+rv
+nsparselocalmessageuri
+asrcmsgmailboxuri
+folderuri
+msgkey
+nsensuresuccess
+rv
+rv
+rv
+nslocaluripath
+kmailboxrooturi
+folderuri
+get
+folderpath
+nssucceeded
+rv
+nsfilepath
+filepath
+folderpath
+nsxpidlcstring
+escapedfilepath
+gettercopies
+escapedfilepath
+nsescape
+filepath
+urlpath
+mprintingoperation
+urlspec
+prsmprintf
+mailbox
+number
+header
+print
+filepath
+msgkey
+part
+urlspec
+prsmprintf
+mailbox
+number
+filepath
+msgkey
+part
+header
+urlspec
+prsmprintf
+mailbox
+number
+filepath
+msgkey
+header
+urlspec
+prsmprintf
+mailbox
+number
+filepath
+msgkey
+nscomptr
+nsimsgmailnewsurl
+url
+doqueryinterface
+amailboxurl
+url
+setspec
+nsdependentcstring
+urlspec
+prfree
+urlspec
+amailboxurl
+setmailboxaction
+amailboxaction
+aurllistener
+rv
+url
+registerlistener
+aurllistener
+url
+setmsgwindow
+msgwindow
+nscomptr
+nsimsgmessageurl
+msgurl
+doqueryinterface
+url
+msgurl
+msgurl
+setoriginalspec
+asrcmsgmailboxuri
+msgurl
+seturi
+asrcmsgmailboxuri
+rv
+nsimethodimp
+nsmailboxservice
+getscheme
+nsacstring
+ascheme
+ascheme
+mailbox
+nsok
+nsimethodimp
+nsmailboxservice
+getdefaultport
+print
+adefaultport
+nsresult
+rv
+nsok
+adefaultport
+adefaultport
+rv
+nserrornullpointer
+rv
+nsimethodimp
+nsmailboxservice
+allowport
+print
+port
+scheme
+prbool
+retval
+retval
+prfalse
+nsok
+nsimethodimp
+nsmailboxservice
+getprotocolflags
+pruint
+result
+result
+uristd
+nsok
+nsimethodimp
+nsmailboxservice
+newuri
+nsacstring
+aspec
+aorigincharset
+nsiuri
+abaseuri
+nsiuri
+retval
+nscomptr
+nsimailboxurl
+amsgurl
+nsresult
+rv
+nsok
+nsacstring
+constiterator
+findinreadable
+nsliteralcstring
+uidl
+aspec
+beginreading
+aspec
+endreading
+findinreadable
+nsliteralcstring
+uidl
+aspec
+beginreading
+aspec
+endreading
+nscomptr
+nsipopservice
+popservice
+dogetservice
+kcpopservicecid
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsiprotocolhandler
+handler
+doqueryinterface
+popservice
+rv
+nssucceeded
+rv
+rv
+handler
+newuri
+aspec
+aorigincharset
+abaseuri
+retval
+rv
+nscomponentmanager
+createinstance
+kcmailboxurl
+nsnull
+nsgetiid
+nsimailboxurl
+getteraddrefs
+amsgurl
+nssucceeded
+rv
+nscomptr
+nsiurl
+aurl
+doqueryinterface
+amsgurl
+aurl
+setspec
+aspec
+amsgurl
+queryinterface
+nsgetiid
+nsiuri
+retval
+rv
+nsimethodimp
+nsmailboxservice
+newchannel
+nsiuri
+auri
+nsichannel
+retval
+nsresult
+rv
+nsok
+nsmailboxprotocol
+protocol
+nsmailboxprotocol
+auri
+protocol
+rv
+protocol
+initialize
+auri
+nsfailed
+rv
+protocol
+rv
+rv
+protocol
+queryinterface
+nsgetiid
+nsichannel
+retval
+rv
+nserrornullpointer
+rv
+nsresult
+nsmailboxservice
+displaymessageforprinting
+amessageuri
+nsisupports
+adisplayconsumer
+nsimsgwindow
+amsgwindow
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+mprintingoperation
+prtrue
+nsresult
+rv
+fetchmessage
+amessageuri
+adisplayconsumer
+amsgwindow
+aurllistener
+nsnull
+nsimailboxurl
+actionfetchmessage
+nsnull
+aurl
+mprintingoperation
+prfalse
+rv
+nsimethodimp
+nsmailboxservice
+search
+nsimsgsearchsession
+asearchsession
+nsimsgwindow
+amsgwindow
+nsimsgfolder
+amsgfolder
+amessageuri
+nserrornotimplemented
+nsresult
+nsmailboxservice
+decomposemailboxuri
+amessageuri
+nsimsgfolder
+afolder
+nsmsgkey
+amsgkey
+nsensureargpointer
+amessageuri
+nsensureargpointer
+afolder
+nsensureargpointer
+amsgkey
+nsresult
+rv
+nsok
+nscautostring
+folderuri
+rv
+nsparselocalmessageuri
+amessageuri
+folderuri
+amsgkey
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+rdf
+rdf
+service
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsirdfresource
+res
+rv
+rdf
+getresource
+folderuri
+getteraddrefs
+res
+nsensuresuccess
+rv
+rv
+rv
+res
+queryinterface
+nsgetiid
+nsimsgfolder
+afolder
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsmailboxservice
+messageuritomsghdr
+uri
+nsimsgdbhdr
+retval
+nsensureargpointer
+uri
+nsensureargpointer
+retval
+nsresult
+rv
+nsok
+nscomptr
+nsimsgfolder
+folder
+nsmsgkey
+msgkey
+rv
+decomposemailboxuri
+uri
+getteraddrefs
+folder
+msgkey
+nsensuresuccess
+rv
+rv
+rv
+folder
+getmessageheader
+msgkey
+retval
+nsensuresuccess
+rv
+rv
+nsok
\ No newline at end of file
@@ -0,0 +1,254 @@
+prmem
+plstr
+prprf
+nsxpidlstring
+nsmsglocalcid
+nsmsgfolderflags
+nsifilespec
+nsipref
+nsimsglocalmailfolder
+nsimovemailservice
+msgcore
+nsmovemailincomingserver
+nsdefinecid
+kcmovemailservicecid
+nsmovemailservicecid
+nsimplisupportsinherited
+nsmovemailincomingserver
+nsmsgincomingserver
+nsimovemailincomingserver
+nsilocalmailincomingserver
+nsmovemailincomingserver
+nsmovemailincomingserver
+mcanhavefilters
+prtrue
+nsmovemailincomingserver
+nsmovemailincomingserver
+nsimethodimp
+nsmovemailincomingserver
+getissecureserver
+prbool
+aissecureserver
+nsensureargpointer
+aissecureserver
+aissecureserver
+prfalse
+nsok
+nsresult
+nsmovemailincomingserver
+getlocalstoretype
+type
+nsensureargpointer
+type
+type
+nscrt
+strdup
+mailbox
+nsok
+nsimethodimp
+nsmovemailincomingserver
+setflagsondefaultmailboxes
+nsresult
+rv
+nscomptr
+nsifolder
+rootfolder
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsglocalmailfolder
+localfolder
+doqueryinterface
+rootfolder
+rv
+nsensuresuccess
+rv
+rv
+localfolder
+setflagsondefaultmailboxes
+msgfolderflaginbox
+msgfolderflagsentmail
+msgfolderflagdrafts
+msgfolderflagtemplates
+msgfolderflagtrash
+msgfolderflagjunk
+msgfolderflagqueue
+nsok
+nsimethodimp
+nsmovemailincomingserver
+createdefaultmailboxes
+nsifilespec
+path
+nsresult
+rv
+prbool
+exists
+path
+nserrornullpointer
+rv
+path
+appendrelativeunixpath
+inbox
+nsfailed
+rv
+rv
+rv
+path
+exists
+exists
+exists
+rv
+path
+touch
+nsfailed
+rv
+rv
+rv
+path
+setleafname
+trash
+nsfailed
+rv
+rv
+rv
+path
+exists
+exists
+exists
+rv
+path
+touch
+nsfailed
+rv
+rv
+rv
+path
+setleafname
+sent
+nsfailed
+rv
+rv
+rv
+path
+exists
+exists
+nsfailed
+rv
+rv
+exists
+rv
+path
+touch
+nsfailed
+rv
+rv
+rv
+path
+setleafname
+drafts
+nsfailed
+rv
+rv
+rv
+path
+exists
+exists
+nsfailed
+rv
+rv
+exists
+rv
+path
+touch
+nsfailed
+rv
+rv
+rv
+path
+setleafname
+templates
+nsfailed
+rv
+rv
+rv
+path
+exists
+exists
+nsfailed
+rv
+rv
+exists
+rv
+path
+touch
+nsfailed
+rv
+rv
+rv
+path
+setleafname
+unsent
+messages
+nsfailed
+rv
+rv
+rv
+path
+exists
+exists
+nsfailed
+rv
+rv
+exists
+rv
+path
+touch
+nsfailed
+rv
+rv
+rv
+nsimethodimp
+nsmovemailincomingserver
+getnewmail
+nsimsgwindow
+amsgwindow
+nsiurllistener
+aurllistener
+nsimsgfolder
+amsgfolder
+nsiuri
+aresult
+nsresult
+rv
+nscomptr
+nsimovemailservice
+movemailservice
+dogetservice
+kcmovemailservicecid
+rv
+nsfailed
+rv
+rv
+rv
+movemailservice
+getnewmail
+amsgwindow
+aurllistener
+amsgfolder
+aresult
+rv
+nsimethodimp
+nsmovemailincomingserver
+getcansearchmessages
+prbool
+cansearchmessages
+nsensureargpointer
+cansearchmessages
+cansearchmessages
+prtrue
+nsok
\ No newline at end of file
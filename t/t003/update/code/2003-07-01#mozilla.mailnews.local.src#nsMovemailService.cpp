@@ -0,0 +1,967 @@
+defined
+debugadam
+defined
+debugseth
+define
+movemaildebug
+endif
+unistd
+prenv
+nspr
+msgcore
+nsmovemailservice
+nsimovemailservice
+nsimsgincomingserver
+nsimovemailincomingserver
+nsimsgprotocolinfo
+nsimsgmailsession
+nsparsemailbox
+nsifolder
+nsiprompt
+nsilocalfile
+nsfilestream
+nsifilespec
+nsappdirectoryservicedefs
+nsipref
+nsmsglocalcid
+nsmsgbasecid
+nsxpidlstring
+nscomptr
+nsmsgfolderflags
+define
+prefmailrootmovemail
+mail
+root
+movemail
+nsdefinecid
+kprefcid
+nsprefcid
+nsmovemailservice
+nsmovemailservice
+ifdef
+movemaildebug
+fprintf
+stderr
+murrr
+nsmovemailservice
+endif
+mstringservice
+dogetservice
+nsmsgpopstringservicecontractid
+nsmovemailservice
+nsmovemailservice
+nsimplisupports
+nsmovemailservice
+nsimovemailservice
+nsimsgprotocolinfo
+nsimethodimp
+nsmovemailservice
+checkfornewmail
+nsiurllistener
+aurllistener
+nsimsgfolder
+inbox
+nsimovemailincomingserver
+movemailserver
+nsiuri
+aurl
+nsresult
+rv
+nsok
+ifdef
+movemaildebug
+fprintf
+stderr
+woowoowoo
+check
+endif
+rv
+nsmovemailservice
+error
+print
+errorcode
+prunichar
+params
+pruint
+length
+mstringservice
+mmsgwindow
+nscomptr
+nsiprompt
+dialog
+nsresult
+rv
+mmsgwindow
+getpromptdialog
+getteraddrefs
+dialog
+nsfailed
+rv
+nsxpidlstring
+errstr
+params
+nscomptr
+nsistringbundle
+bundle
+rv
+mstringservice
+getbundle
+getteraddrefs
+bundle
+nssucceeded
+rv
+bundle
+formatstringfromid
+errorcode
+params
+length
+gettercopies
+errstr
+mstringservice
+getstringbyid
+errorcode
+gettercopies
+errstr
+errstr
+isempty
+dialog
+alert
+nsnull
+errstr
+get
+prbool
+obtainspoollock
+spoolnamestr
+seconds
+nscautostring
+mozlockstr
+spoolnamestr
+mozlockstr
+append
+mozlock
+nscautostring
+lockstr
+spoolnamestr
+lockstr
+append
+lock
+nsresult
+rv
+nsfilespec
+tmplocspec
+mozlockstr
+get
+nscomptr
+nsilocalfile
+tmplocfile
+rv
+nsfilespectoifile
+tmplocspec
+getteraddrefs
+tmplocfile
+nsfailed
+rv
+prfalse
+ifdef
+movemaildebug
+fprintf
+stderr
+maker
+mozlockstr
+get
+endif
+rv
+tmplocfile
+create
+nsifile
+normalfiletype
+nsfailed
+rv
+rv
+nserrorfilealreadyexists
+tmplocfile
+ifdef
+movemaildebug
+fprintf
+stderr
+cannot
+create
+blah
+mozlock
+file
+endif
+prfalse
+linkresult
+retrycount
+linkresult
+link
+mozlockstr
+get
+lockstr
+get
+retrycount
+ifdef
+movemaildebug
+fprintf
+stderr
+retrycount
+endif
+seconds
+linkresult
+printervaltime
+sleeptime
+prsleep
+sleeptime
+linkresult
+retrycount
+seconds
+ifdef
+movemaildebug
+fprintf
+stderr
+link
+result
+linkresult
+endif
+rv
+tmplocfile
+remove
+prfalse
+ifdef
+movemaildebug
+nsfailed
+rv
+fprintf
+stderr
+nbizarre
+could
+our
+mozlock
+file
+oh
+well
+endif
+ifdef
+movemaildebug
+fprintf
+stderr
+got
+to
+the
+end
+linkresult
+got
+lock
+did
+not
+get
+lock
+endif
+linkresult
+prtrue
+prfalse
+prbool
+yieldspoollock
+spoolnamestr
+ifdef
+movemaildebug
+fprintf
+stderr
+attempting
+lockfile
+removal
+lock
+spoolnamestr
+endif
+nscautostring
+lockstr
+spoolnamestr
+lockstr
+append
+lock
+nsresult
+rv
+nsfilespec
+locklocspec
+lockstr
+get
+nscomptr
+nsilocalfile
+locklocfile
+rv
+nsfilespectoifile
+locklocspec
+getteraddrefs
+locklocfile
+nsfailed
+rv
+prfalse
+rv
+locklocfile
+remove
+prfalse
+nsfailed
+rv
+prfalse
+ifdef
+movemaildebug
+fprintf
+stderr
+lock
+yielding
+was
+successful
+endif
+prtrue
+nsinputfilestream
+probespoolfilepath
+pathstr
+prbool
+foundbutlocked
+foundbutlocked
+prfalse
+pathstr
+nsnull
+nsinputfilestream
+rtnstream
+nsnull
+nsfilespec
+filespec
+nsfilespec
+pathstr
+filespec
+nsnull
+filespec
+failed
+filespec
+isfile
+ifdef
+movemaildebug
+fprintf
+stderr
+filespec
+getleafname
+pathstr
+endif
+obtainspoollock
+pathstr
+foundbutlocked
+prtrue
+rtnstream
+nsinputfilestream
+filespec
+rtnstream
+rtnstream
+failed
+rtnstream
+isopen
+rtnstream
+rtnstream
+nsnull
+filespec
+rtnstream
+nsresult
+nsmovemailservice
+getnewmail
+nsimsgwindow
+amsgwindow
+nsiurllistener
+aurllistener
+nsimsgfolder
+amsgfolder
+nsimovemailincomingserver
+movemailserver
+nsiuri
+aurl
+nsresult
+rv
+nsok
+nscomptr
+nsimsgincomingserver
+inserver
+doqueryinterface
+movemailserver
+inserver
+nsmsginvalidormissingserver
+mmsgwindow
+amsgwindow
+nscautostring
+wholeboxname
+inserver
+setserverbusy
+prtrue
+nsinputfilestream
+spoolfile
+nsnull
+prbool
+foundspoolbutitislocked
+prfalse
+wholeboxnamefromenv
+prgetenv
+mail
+wholeboxnamefromenv
+wholeboxname
+assign
+wholeboxnamefromenv
+spoolfile
+probespoolfilepath
+wholeboxnamefromenv
+foundspoolbutitislocked
+boxfilename
+boxfilename
+prgetenv
+user
+boxfilename
+boxfilename
+prgetenv
+username
+boxfilename
+wholeboxname
+var
+spool
+mail
+wholeboxname
+boxfilename
+spoolfile
+probespoolfilepath
+wholeboxname
+get
+foundspoolbutitislocked
+spoolfile
+foundspoolbutitislocked
+wholeboxname
+usr
+spool
+mail
+wholeboxname
+boxfilename
+spoolfile
+probespoolfilepath
+wholeboxname
+get
+foundspoolbutitislocked
+spoolfile
+foundspoolbutitislocked
+wholeboxname
+var
+mail
+wholeboxname
+boxfilename
+spoolfile
+probespoolfilepath
+wholeboxname
+get
+foundspoolbutitislocked
+spoolfile
+foundspoolbutitislocked
+wholeboxname
+usr
+mail
+wholeboxname
+boxfilename
+spoolfile
+probespoolfilepath
+wholeboxname
+get
+foundspoolbutitislocked
+spoolfile
+ifdef
+movemaildebug
+fprintf
+stderr
+nope
+no
+luck
+getting
+spool
+file
+name
+at
+all
+endif
+nserrorfailure
+spoolfile
+foundspoolbutitislocked
+ifdef
+movemaildebug
+fprintf
+stderr
+well
+got
+the
+spool
+file
+but
+the
+lock
+endif
+nserrorfailure
+define
+readbufsize
+buffer
+prcalloc
+readbufsize
+buffer
+rv
+nserroroutofmemory
+nsiofilestream
+outfilestream
+nsparsenewmailstate
+newmailparser
+nscomptr
+nsifilespec
+maildirectory
+rv
+inserver
+getlocalpath
+getteraddrefs
+maildirectory
+nsfailed
+rv
+freebuffandunlock
+nsfilespec
+filespec
+maildirectory
+getfilespec
+filespec
+filespec
+inbox
+outfilestream
+nsiofilestream
+filespec
+outfilestream
+rv
+nserroroutofmemory
+freebuffandunlock
+outfilestream
+seek
+filespec
+getfilesize
+newmailparser
+nsparsenewmailstate
+newmailparser
+nsnull
+rv
+nserroroutofmemory
+freebuffandunlock
+nscomptr
+nsimsgparsemailmsgstate
+iparsemailmsgstate
+nsstaticcast
+nsimsgparsemailmsgstate
+newmailparser
+nscomptr
+nsifolder
+serverfolder
+rv
+inserver
+getrootfolder
+getteraddrefs
+serverfolder
+nsfailed
+rv
+freebuffandunlock
+nscomptr
+nsimsgfolder
+inbox
+nscomptr
+nsimsgfolder
+rootmsgfolder
+doqueryinterface
+serverfolder
+rootmsgfolder
+freebuffandunlock
+pruint
+numfolders
+rv
+rootmsgfolder
+getfolderswithflag
+msgfolderflaginbox
+numfolders
+getteraddrefs
+inbox
+nsfailed
+rv
+freebuffandunlock
+rv
+newmailparser
+init
+serverfolder
+inbox
+filespec
+outfilestream
+nsnull
+nsfailed
+rv
+freebuffandunlock
+numlines
+spoolfile
+eof
+spoolfile
+failed
+spoolfile
+isopen
+spoolfile
+readline
+buffer
+readbufsize
+plstrlen
+msglinebreak
+numlines
+nscrt
+strncmp
+buffer
+from
+numlines
+numlines
+buffer
+spoolfile
+eof
+ifdef
+movemaildebug
+fprintf
+stderr
+utterly
+empty
+spool
+file
+endif
+plstrcpy
+buffer
+plstrlen
+buffer
+msglinebreak
+newmailparser
+handleline
+buffer
+plstrlen
+buffer
+outfilestream
+buffer
+numlines
+numlines
+spoolfile
+eof
+plstrcpy
+buffer
+mozilla
+status
+msglinebreak
+newmailparser
+handleline
+buffer
+plstrlen
+buffer
+outfilestream
+buffer
+plstrcpy
+buffer
+mozilla
+status
+msglinebreak
+newmailparser
+handleline
+buffer
+plstrlen
+buffer
+outfilestream
+buffer
+outfilestream
+flush
+newmailparser
+onstoprequest
+nsnull
+nsnull
+nsok
+outfilestream
+isopen
+outfilestream
+close
+outfilestream
+outfilestream
+nsfilespec
+filespecfortrunc
+wholeboxname
+get
+filespecfortrunc
+truncate
+spoolfile
+isopen
+spoolfile
+close
+spoolfile
+freebuffandunlock
+prfree
+buffer
+yieldspoollock
+wholeboxname
+get
+inserver
+setserverbusy
+prfalse
+ifdef
+movemaildebug
+fprintf
+stderr
+yeahyeahyeah
+get
+nsfailed
+rv
+miserable
+failure
+unprecedented
+success
+endif
+rv
+nsimethodimp
+nsmovemailservice
+setdefaultlocalpath
+nsifilespec
+apath
+nsresult
+rv
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefcid
+rv
+nsfailed
+rv
+rv
+rv
+prefs
+setfilepref
+prefmailrootmovemail
+apath
+prfalse
+rv
+nsimethodimp
+nsmovemailservice
+getdefaultlocalpath
+nsifilespec
+aresult
+nsensureargpointer
+aresult
+aresult
+nsnull
+nsresult
+rv
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefcid
+rv
+nsfailed
+rv
+rv
+prbool
+havepref
+prfalse
+nscomptr
+nsilocalfile
+preflocal
+nscomptr
+nsifile
+localfile
+rv
+prefs
+getfilexpref
+prefmailrootmovemail
+getteraddrefs
+preflocal
+nssucceeded
+rv
+localfile
+preflocal
+havepref
+prtrue
+localfile
+rv
+nsgetspecialdirectory
+nsappmaildir
+getteraddrefs
+localfile
+nsfailed
+rv
+rv
+havepref
+prfalse
+prbool
+exists
+rv
+localfile
+exists
+exists
+nsfailed
+rv
+rv
+exists
+rv
+localfile
+create
+nsifile
+directorytype
+nsfailed
+rv
+rv
+nscomptr
+nsifilespec
+outspec
+rv
+nsnewfilespecfromifile
+localfile
+getteraddrefs
+outspec
+nsfailed
+rv
+rv
+havepref
+exists
+rv
+setdefaultlocalpath
+outspec
+aresult
+outspec
+nsifaddref
+aresult
+rv
+nsimethodimp
+nsmovemailservice
+getserveriid
+nsiid
+aserveriid
+aserveriid
+nsiid
+nsgetiid
+nsimovemailincomingserver
+nsok
+nsimethodimp
+nsmovemailservice
+getrequiresusername
+prbool
+arequiresusername
+nsensureargpointer
+arequiresusername
+arequiresusername
+prfalse
+nsok
+nsimethodimp
+nsmovemailservice
+getpreflightprettynamewithemailaddress
+prbool
+apreflightprettynamewithemailaddress
+nsensureargpointer
+apreflightprettynamewithemailaddress
+apreflightprettynamewithemailaddress
+prtrue
+nsok
+nsimethodimp
+nsmovemailservice
+getcanloginatstartup
+prbool
+acanloginatstartup
+nsensureargpointer
+acanloginatstartup
+acanloginatstartup
+prfalse
+nsok
+nsimethodimp
+nsmovemailservice
+getcandelete
+prbool
+acandelete
+nsensureargpointer
+acandelete
+acandelete
+prtrue
+nsok
+nsimethodimp
+nsmovemailservice
+getcangetmessages
+prbool
+acangetmessages
+nsensureargpointer
+acangetmessages
+acangetmessages
+prtrue
+nsok
+nsimethodimp
+nsmovemailservice
+getcangetincomingmessages
+prbool
+acangetincomingmessages
+nsensureargpointer
+acangetincomingmessages
+acangetincomingmessages
+prtrue
+nsok
+nsimethodimp
+nsmovemailservice
+getcanduplicate
+prbool
+acanduplicate
+nsensureargpointer
+acanduplicate
+acanduplicate
+prfalse
+nsok
+nsimethodimp
+nsmovemailservice
+getdefaultdobiff
+prbool
+adobiff
+nsensureargpointer
+adobiff
+adobiff
+prtrue
+nsok
+nsimethodimp
+nsmovemailservice
+getdefaultserverport
+prbool
+issecure
+print
+adefaultport
+nsassertion
+this
+should
+probably
+never
+be
+called
+nsensureargpointer
+adefaultport
+adefaultport
+nsok
+nsimethodimp
+nsmovemailservice
+getshowcomposemsglink
+prbool
+showcomposemsglink
+nsensureargpointer
+showcomposemsglink
+showcomposemsglink
+prtrue
+nsok
+nsimethodimp
+nsmovemailservice
+getneedtobuildspecialfolderuris
+prbool
+needtobuildspecialfolderuris
+nsensureargpointer
+needtobuildspecialfolderuris
+needtobuildspecialfolderuris
+prfalse
+nsok
+nsimethodimp
+nsmovemailservice
+getspecialfoldersdeletionallowed
+prbool
+specialfoldersdeletionallowed
+nsensureargpointer
+specialfoldersdeletionallowed
+specialfoldersdeletionallowed
+prtrue
+nsok
\ No newline at end of file
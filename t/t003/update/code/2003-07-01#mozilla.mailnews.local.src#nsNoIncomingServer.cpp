@@ -0,0 +1,363 @@
+msgcore
+prmem
+plstr
+prprf
+nsifilespec
+nsipref
+nsxpidlstring
+nsnoincomingserver
+nsmsglocalcid
+nsmsgfolderflags
+nsimsglocalmailfolder
+nsimsgmailsession
+nsmsgbasecid
+nsimplisupportsinherited
+nsnoincomingserver
+nsmsgincomingserver
+nsinoincomingserver
+nsilocalmailincomingserver
+nsnoincomingserver
+nsnoincomingserver
+nsnoincomingserver
+nsnoincomingserver
+nsresult
+nsnoincomingserver
+getlocalstoretype
+type
+nsensureargpointer
+type
+type
+nscrt
+strdup
+mailbox
+nsok
+nsimethodimp
+nsnoincomingserver
+setflagsondefaultmailboxes
+nsresult
+rv
+nscomptr
+nsifolder
+rootfolder
+rv
+getrootfolder
+getteraddrefs
+rootfolder
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsglocalmailfolder
+localfolder
+doqueryinterface
+rootfolder
+rv
+nsensuresuccess
+rv
+rv
+localfolder
+setflagsondefaultmailboxes
+msgfolderflagsentmail
+msgfolderflagdrafts
+msgfolderflagtemplates
+msgfolderflagtrash
+msgfolderflagjunk
+msgfolderflagqueue
+nsok
+nsimethodimp
+nsnoincomingserver
+copydefaultmessages
+foldernameondisk
+nsifilespec
+parentdir
+nsresult
+rv
+prbool
+exists
+foldernameondisk
+parentdir
+nserrornullpointer
+nscomptr
+nsimsgmailsession
+mailsession
+dogetservice
+nsmsgmailsessioncontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsifile
+defaultmessagesfile
+rv
+mailsession
+getdatafilesdir
+messenger
+getteraddrefs
+defaultmessagesfile
+nsensuresuccess
+rv
+rv
+rv
+defaultmessagesfile
+appendnative
+nsdependentcstring
+foldernameondisk
+nsfailed
+rv
+rv
+rv
+defaultmessagesfile
+exists
+exists
+nsfailed
+rv
+rv
+exists
+nsok
+nsfilespec
+parentdirspec
+nscomptr
+nsilocalfile
+localparentdir
+rv
+parentdir
+getfilespec
+parentdirspec
+nsfailed
+rv
+rv
+rv
+nsfilespectoifile
+parentdirspec
+getteraddrefs
+localparentdir
+nsfailed
+rv
+rv
+nscomptr
+nsifile
+testdir
+rv
+localparentdir
+clone
+getteraddrefs
+testdir
+nsfailed
+rv
+rv
+rv
+testdir
+appendnative
+nsdependentcstring
+foldernameondisk
+nsfailed
+rv
+rv
+rv
+testdir
+exists
+exists
+nsfailed
+rv
+rv
+exists
+ifdef
+debugsspitzer
+printf
+append
+foldernameondisk
+endif
+ifdef
+debugsspitzer
+printf
+copy
+foldernameondisk
+endif
+rv
+defaultmessagesfile
+copyto
+localparentdir
+nsstring
+nsfailed
+rv
+rv
+nsok
+nsimethodimp
+nsnoincomingserver
+createdefaultmailboxes
+nsifilespec
+path
+nsresult
+rv
+prbool
+exists
+path
+nserrornullpointer
+rv
+path
+appendrelativeunixpath
+trash
+nsfailed
+rv
+rv
+rv
+path
+exists
+exists
+exists
+rv
+path
+touch
+nsfailed
+rv
+rv
+rv
+path
+setleafname
+sent
+nsfailed
+rv
+rv
+rv
+path
+exists
+exists
+nsfailed
+rv
+rv
+exists
+rv
+path
+touch
+nsfailed
+rv
+rv
+rv
+path
+setleafname
+drafts
+nsfailed
+rv
+rv
+rv
+path
+exists
+exists
+nsfailed
+rv
+rv
+exists
+rv
+path
+touch
+nsfailed
+rv
+rv
+nscomptr
+nsifilespec
+parentdir
+rv
+path
+getparent
+getteraddrefs
+parentdir
+nsfailed
+rv
+rv
+rv
+copydefaultmessages
+templates
+parentdir
+nsfailed
+rv
+rv
+rv
+path
+setleafname
+templates
+nsfailed
+rv
+rv
+rv
+path
+exists
+exists
+nsfailed
+rv
+rv
+exists
+rv
+path
+touch
+nsfailed
+rv
+rv
+rv
+path
+setleafname
+unsent
+messages
+nsfailed
+rv
+rv
+rv
+path
+exists
+exists
+nsfailed
+rv
+rv
+exists
+rv
+path
+touch
+nsfailed
+rv
+rv
+nsok
+nsimethodimp
+nsnoincomingserver
+getnewmail
+nsimsgwindow
+amsgwindow
+nsiurllistener
+aurllistener
+nsimsgfolder
+ainbox
+nsiuri
+aresult
+aurllistener
+aurllistener
+onstoprunningurl
+nsnull
+nsok
+nsok
+nsimethodimp
+nsnoincomingserver
+getfilterlist
+nsimsgwindow
+amsgwindow
+nsimsgfilterlist
+aresult
+nserrornotimplemented
+nsimethodimp
+nsnoincomingserver
+getcansearchmessages
+prbool
+cansearchmessages
+nsensureargpointer
+cansearchmessages
+cansearchmessages
+prtrue
+nsok
+nsimethodimp
+nsnoincomingserver
+getserverrequirespasswordforbiff
+prbool
+aserverrequirespasswordforbiff
+nsensureargpointer
+aserverrequirespasswordforbiff
+aserverrequirespasswordforbiff
+prfalse
+nsok
\ No newline at end of file
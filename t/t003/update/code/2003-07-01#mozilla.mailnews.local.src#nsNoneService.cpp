@@ -0,0 +1,282 @@
+msgcore
+nsnoneservice
+nsinoincomingserver
+nsinoneservice
+nsimsgprotocolinfo
+nsimsgmailsession
+nsipref
+nsmsglocalcid
+nsmsgbasecid
+nsxpidlstring
+nscomptr
+nsifilespec
+nsidirectoryservice
+nsappdirectoryservicedefs
+define
+prefmailrootnone
+mail
+root
+none
+nsdefinecid
+kprefcid
+nsprefcid
+nsnoneservice
+nsnoneservice
+nsnoneservice
+nsnoneservice
+nsimplisupports
+nsnoneservice
+nsinoneservice
+nsimsgprotocolinfo
+nsimethodimp
+nsnoneservice
+setdefaultlocalpath
+nsifilespec
+apath
+nsresult
+rv
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefcid
+rv
+nsfailed
+rv
+rv
+rv
+prefs
+setfilepref
+prefmailrootnone
+apath
+prfalse
+rv
+nsimethodimp
+nsnoneservice
+getdefaultlocalpath
+nsifilespec
+aresult
+nsensureargpointer
+aresult
+aresult
+nsnull
+nsresult
+rv
+nscomptr
+nsipref
+prefs
+dogetservice
+kprefcid
+rv
+nsfailed
+rv
+rv
+prbool
+havepref
+prfalse
+nscomptr
+nsilocalfile
+preflocal
+nscomptr
+nsifile
+localfile
+rv
+prefs
+getfilexpref
+prefmailrootnone
+getteraddrefs
+preflocal
+nssucceeded
+rv
+localfile
+preflocal
+havepref
+prtrue
+localfile
+rv
+nsgetspecialdirectory
+nsappmaildir
+getteraddrefs
+localfile
+nsfailed
+rv
+rv
+havepref
+prfalse
+prbool
+exists
+rv
+localfile
+exists
+exists
+nsfailed
+rv
+rv
+exists
+rv
+localfile
+create
+nsifile
+directorytype
+nsfailed
+rv
+rv
+nscomptr
+nsifilespec
+outspec
+rv
+nsnewfilespecfromifile
+localfile
+getteraddrefs
+outspec
+nsfailed
+rv
+rv
+havepref
+exists
+rv
+setdefaultlocalpath
+outspec
+aresult
+outspec
+nsifaddref
+aresult
+rv
+nsimethodimp
+nsnoneservice
+getserveriid
+nsiid
+aserveriid
+aserveriid
+nsiid
+nsgetiid
+nsinoincomingserver
+nsok
+nsimethodimp
+nsnoneservice
+getrequiresusername
+prbool
+arequiresusername
+nsensureargpointer
+arequiresusername
+arequiresusername
+prtrue
+nsok
+nsimethodimp
+nsnoneservice
+getpreflightprettynamewithemailaddress
+prbool
+apreflightprettynamewithemailaddress
+nsensureargpointer
+apreflightprettynamewithemailaddress
+apreflightprettynamewithemailaddress
+prtrue
+nsok
+nsimethodimp
+nsnoneservice
+getcanloginatstartup
+prbool
+acanloginatstartup
+nsensureargpointer
+acanloginatstartup
+acanloginatstartup
+prfalse
+nsok
+nsimethodimp
+nsnoneservice
+getcandelete
+prbool
+acandelete
+nsensureargpointer
+acandelete
+acandelete
+prfalse
+nsok
+nsimethodimp
+nsnoneservice
+getcanduplicate
+prbool
+acanduplicate
+nsensureargpointer
+acanduplicate
+acanduplicate
+prfalse
+nsok
+nsimethodimp
+nsnoneservice
+getcangetmessages
+prbool
+acangetmessages
+nsensureargpointer
+acangetmessages
+acangetmessages
+prfalse
+nsok
+nsimethodimp
+nsnoneservice
+getcangetincomingmessages
+prbool
+acangetincomingmessages
+nsensureargpointer
+acangetincomingmessages
+acangetincomingmessages
+prfalse
+nsok
+nsimethodimp
+nsnoneservice
+getdefaultdobiff
+prbool
+adobiff
+nsensureargpointer
+adobiff
+adobiff
+prfalse
+nsok
+nsimethodimp
+nsnoneservice
+getdefaultserverport
+prbool
+issecure
+print
+adefaultport
+nsassertion
+this
+should
+probably
+never
+be
+called
+nsensureargpointer
+adefaultport
+adefaultport
+nsok
+nsimethodimp
+nsnoneservice
+getshowcomposemsglink
+prbool
+showcomposemsglink
+nsensureargpointer
+showcomposemsglink
+showcomposemsglink
+prfalse
+nsok
+nsimethodimp
+nsnoneservice
+getneedtobuildspecialfolderuris
+prbool
+needtobuildspecialfolderuris
+nsensureargpointer
+needtobuildspecialfolderuris
+needtobuildspecialfolderuris
+prfalse
+nsok
+nsimethodimp
+nsnoneservice
+getspecialfoldersdeletionallowed
+prbool
+specialfoldersdeletionallowed
+nsensureargpointer
+specialfoldersdeletionallowed
+specialfoldersdeletionallowed
+prtrue
+nsok
\ No newline at end of file
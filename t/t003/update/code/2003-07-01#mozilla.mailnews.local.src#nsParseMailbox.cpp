@@ -0,0 +1,2922 @@
+msgcore
+nsiuri
+nsparsemailbox
+nsimsghdr
+nsimsgdatabase
+nsmsgmessageflags
+nsidbfolderinfo
+nsiinputstream
+nsilocalfile
+nsmsglocalfolderhdrs
+nsmsgbasecid
+nsmsgdbcid
+nsimailboxurl
+nscrt
+nsfilestream
+nsmsgfolderflags
+nsimsgfolder
+nsxpidlstring
+nsiurl
+nsimsgmailnewsurl
+nslocalstringbundle
+nsimsgfilterlist
+nsimsgfilter
+nsiioservice
+nsnetcid
+nsrdfcid
+nsipref
+nsirdfservice
+nsmsgin
+nsappdirectoryservicedefs
+nsimsglocalmailfolder
+nsmsgutils
+prprf
+nsescape
+nsimimeheaders
+nsimsgmdngenerator
+nsmsgsearchcore
+nsdefinecid
+kcmaildb
+nsmaildbcid
+nsdefinecid
+kprefservicecid
+nsprefcid
+nsdefinecid
+kioservicecid
+nsioservicecid
+nsdefinecid
+krdfservicecid
+nsrdfservicecid
+nsimplisupportsinherited
+nsmsgmailboxparser
+nsparsemailmessagestate
+nsistreamlistener
+nsidbchangelistener
+nsimethodimp
+nsmsgmailboxparser
+ondataavailable
+nsirequest
+request
+nsisupports
+ctxt
+nsiinputstream
+aistream
+pruint
+sourceoffset
+pruint
+alength
+nsresult
+rv
+nsok
+nscomptr
+nsiuri
+url
+doqueryinterface
+ctxt
+rv
+nssucceeded
+rv
+rv
+processmailboxinputstream
+url
+aistream
+alength
+rv
+nsimethodimp
+nsmsgmailboxparser
+onstartrequest
+nsirequest
+request
+nsisupports
+ctxt
+nstime
+currenttime
+mstarttime
+currenttime
+nsresult
+rv
+nsok
+nscomptr
+nsiioservice
+ioserv
+dogetservice
+kioservicecid
+rv
+nscomptr
+nsimailboxurl
+runningurl
+doqueryinterface
+ctxt
+rv
+nscomptr
+nsimsgmailnewsurl
+url
+doqueryinterface
+ctxt
+nscomptr
+nsimsgfolder
+folder
+doqueryreferent
+mfolder
+nssucceeded
+rv
+runningurl
+folder
+url
+getstatusfeedback
+getteraddrefs
+mstatusfeedback
+folder
+getname
+gettercopies
+mfoldername
+nscomptr
+nsifilespec
+path
+folder
+getpath
+getteraddrefs
+path
+path
+nsfilespec
+dbname
+path
+getfilespec
+dbname
+mgraphprogresstotal
+dbname
+getfilesize
+updatestatustext
+localstatusselectingmailbox
+nscomptr
+nsimsgdatabase
+maildb
+rv
+nscomponentmanager
+createinstance
+kcmaildb
+nsnull
+nsgetiid
+nsimsgdatabase
+getteraddrefs
+maildb
+nssucceeded
+rv
+maildb
+rv
+maildb
+openfolderdb
+folder
+prtrue
+prtrue
+nsimsgdatabase
+getteraddrefs
+mmaildb
+mmaildb
+mmaildb
+addlistener
+nsassertion
+mmaildb
+failed
+to
+open
+mail
+db
+parsing
+folder
+rv
+nsimethodimp
+nsmsgmailboxparser
+onstoprequest
+nsirequest
+request
+nsisupports
+ctxt
+nsresult
+astatus
+doneparsingfolder
+astatus
+murlinprogress
+prfalse
+mmaildb
+mmaildb
+removelistener
+releasefolderlock
+mgraphprogressreceived
+updateprogresspercent
+updatestatustext
+localstatusdocumentdone
+nsok
+nsimethodimp
+nsmsgmailboxparser
+onkeychange
+nsmsgkey
+akeychanged
+pruint
+aoldflags
+pruint
+anewflags
+nsidbchangelistener
+ainstigator
+nsok
+nsimethodimp
+nsmsgmailboxparser
+onkeydeleted
+nsmsgkey
+akeychanged
+nsmsgkey
+aparentkey
+print
+aflags
+nsidbchangelistener
+ainstigator
+nsok
+nsimethodimp
+nsmsgmailboxparser
+onkeyadded
+nsmsgkey
+akeychanged
+nsmsgkey
+aparentkey
+print
+aflags
+nsidbchangelistener
+ainstigator
+nsok
+nsimethodimp
+nsmsgmailboxparser
+onparentchanged
+nsmsgkey
+akeychanged
+nsmsgkey
+oldparent
+nsmsgkey
+newparent
+nsidbchangelistener
+ainstigator
+nsok
+nsimethodimp
+nsmsgmailboxparser
+onannouncergoingaway
+nsidbchangeannouncer
+instigator
+mmaildb
+mmaildb
+removelistener
+mnewmsghdr
+nsnull
+mmaildb
+nsnull
+nsok
+nsimethodimp
+nsmsgmailboxparser
+onreadchanged
+nsidbchangelistener
+instigator
+nsok
+nsimethodimp
+nsmsgmailboxparser
+onjunkscorechanged
+nsidbchangelistener
+instigator
+nsok
+nsmsgmailboxparser
+nsmsgmailboxparser
+nsmsglinebuffer
+nsnull
+prfalse
+init
+nsmsgmailboxparser
+nsmsgmailboxparser
+nsimsgfolder
+afolder
+nsmsglinebuffer
+nsnull
+prfalse
+init
+mfolder
+getteraddrefs
+nsgetweakreference
+afolder
+nsmsgmailboxparser
+nsmsgmailboxparser
+releasefolderlock
+nsmsgmailboxparser
+init
+mobuffer
+nsnull
+mobuffersize
+mgraphprogresstotal
+mgraphprogressreceived
+nsmsgmailboxparser
+updatestatustext
+pruint
+stringid
+mstatusfeedback
+nsresult
+rv
+mstringservice
+mstringservice
+dogetservice
+nsmsgmailboxstringservicecontractid
+nsxpidlstring
+finalstring
+stringid
+localstatusselectingmailbox
+nscomptr
+nsistringbundle
+bundle
+rv
+mstringservice
+getbundle
+getteraddrefs
+bundle
+nsassertion
+nssucceeded
+rv
+getbundle
+failed
+nsfailed
+rv
+prunichar
+stringarray
+mfoldername
+get
+rv
+bundle
+formatstringfromid
+stringid
+stringarray
+gettercopies
+finalstring
+mstringservice
+getstringbyid
+stringid
+gettercopies
+finalstring
+mstatusfeedback
+showstatusstring
+finalstring
+nsmsgmailboxparser
+updateprogresspercent
+mstatusfeedback
+mgraphprogresstotal
+mstatusfeedback
+showprogress
+mgraphprogressreceived
+mgraphprogresstotal
+nsmsgmailboxparser
+processmailboxinputstream
+nsiuri
+aurl
+nsiinputstream
+aistream
+pruint
+alength
+nsresult
+ret
+nsok
+pruint
+bytesread
+nssucceeded
+minputstream
+growbuffer
+alength
+ret
+aistream
+read
+minputstream
+getbuffer
+alength
+bytesread
+nssucceeded
+ret
+ret
+bufferinput
+minputstream
+getbuffer
+bytesread
+mgraphprogresstotal
+nssucceeded
+ret
+mgraphprogressreceived
+bytesread
+ret
+nsmsgmailboxparser
+doneparsingfolder
+nsresult
+status
+flushlastline
+publishmsgheader
+nsnull
+nssucceeded
+status
+mmaildb
+updatedbfolderinfo
+mmaildb
+mmaildb
+setsummaryvalid
+prfalse
+mmaildb
+commit
+nsmsgdbcommittype
+klargecommit
+freebuffers
+nsmsgmailboxparser
+freebuffers
+prfreeif
+mobuffer
+mobuffersize
+nsmsgmailboxparser
+updatedbfolderinfo
+updatedbfolderinfo
+mmaildb
+nsmsgmailboxparser
+updatedbfolderinfo
+nsimsgdatabase
+maildb
+maildb
+setsummaryvalid
+prtrue
+maildb
+commit
+nsmsgdbcommittype
+klargecommit
+nsmsgmailboxparser
+foldertypespecifictweakmsgheader
+nsimsgdbhdr
+print
+nsmsgmailboxparser
+publishmsgheader
+nsimsgwindow
+msgwindow
+finishheader
+mnewmsghdr
+foldertypespecifictweakmsgheader
+mnewmsghdr
+pruint
+flags
+mnewmsghdr
+getflags
+flags
+flags
+msgflagexpunged
+nscomptr
+nsidbfolderinfo
+folderinfo
+mmaildb
+getdbfolderinfo
+getteraddrefs
+folderinfo
+pruint
+size
+mnewmsghdr
+getmessagesize
+size
+folderinfo
+changeexpungedbytes
+size
+mnewmsghdr
+nsnull
+mmaildb
+mmaildb
+addnewhdrtodb
+mnewmsghdr
+prtrue
+mnewmsghdr
+nsnull
+nsassertion
+prfalse
+no
+database
+parsing
+local
+folder
+mmaildb
+nscomptr
+nsidbfolderinfo
+folderinfo
+mmaildb
+getdbfolderinfo
+getteraddrefs
+folderinfo
+folderinfo
+folderinfo
+changeexpungedbytes
+mposition
+menvelopepos
+nsmsgmailboxparser
+abortnewheader
+mnewmsghdr
+mmaildb
+mnewmsghdr
+nsnull
+print
+nsmsgmailboxparser
+handleline
+line
+pruint
+linelength
+status
+mgraphprogressreceived
+line
+end
+linelength
+end
+isspace
+end
+isenvelopeline
+end
+line
+isenvelopeline
+line
+linelength
+nsassertion
+mstate
+nsimsgparsemailmsgstate
+parsebodystate
+mstate
+nsimsgparsemailmsgstate
+parseheadersstate
+invalid
+parse
+state
+publishmsgheader
+nsnull
+clear
+status
+startnewenvelope
+line
+linelength
+nsassertion
+status
+error
+starting
+envelope
+parsing
+mailbox
+updateprogresspercent
+status
+status
+mmaildb
+nsnull
+parsefolderline
+line
+linelength
+nserrornullpointer
+nsmsgmailboxparser
+releasefolderlock
+nsresult
+result
+nscomptr
+nsimsgfolder
+folder
+doqueryreferent
+mfolder
+folder
+prbool
+havesemaphore
+nscomptr
+nsisupports
+supports
+doqueryinterface
+nsstaticcast
+nsimsgparsemailmsgstate
+result
+folder
+testsemaphore
+supports
+havesemaphore
+nssucceeded
+result
+havesemaphore
+result
+folder
+releasesemaphore
+supports
+nsimplisupports
+nsparsemailmessagestate
+nsimsgparsemailmsgstate
+nsparsemailmessagestate
+nsparsemailmessagestate
+mposition
+mignorexmozillastatus
+prfalse
+mstate
+nsimsgparsemailmsgstate
+parsebodystate
+clear
+mheaderaddressparser
+dogetservice
+nsmailnewsmimeheaderparsercontractid
+nsparsemailmessagestate
+nsparsemailmessagestate
+clearaggregateheader
+mtolist
+clearaggregateheader
+mcclist
+nsparsemailmessagestate
+init
+pruint
+fileposition
+mstate
+nsimsgparsemailmsgstate
+parsebodystate
+mposition
+fileposition
+mnewmsghdr
+nsnull
+nsimethodimp
+nsparsemailmessagestate
+clear
+mmessageid
+length
+mreferences
+length
+mdate
+length
+mfrom
+length
+msender
+length
+mnewsgroups
+length
+msubject
+length
+mstatus
+length
+mmozstatus
+length
+mmozstatus
+length
+menvelopefrom
+length
+menvelopedate
+length
+mpriority
+length
+mmdndnt
+length
+mreturnpath
+length
+minreplyto
+length
+mcontenttype
+length
+mmdnoriginalrecipient
+length
+mbodylines
+mnewmsghdr
+nsnull
+menvelopepos
+clearaggregateheader
+mtolist
+clearaggregateheader
+mcclist
+mheaders
+resetwritepos
+menvelope
+resetwritepos
+nsok
+nsimethodimp
+nsparsemailmessagestate
+setstate
+nsmailboxparsestate
+astate
+mstate
+astate
+nsok
+nsimethodimp
+nsparsemailmessagestate
+getstate
+nsmailboxparsestate
+astate
+astate
+nserrornullpointer
+astate
+mstate
+nsok
+nsimethodimp
+nsparsemailmessagestate
+getenvelopepos
+pruint
+aenvelopepos
+aenvelopepos
+nserrornullpointer
+aenvelopepos
+menvelopepos
+nsok
+nsimethodimp
+nsparsemailmessagestate
+setenvelopepos
+pruint
+aenvelopepos
+menvelopepos
+aenvelopepos
+mposition
+menvelopepos
+mheaderstartpos
+mposition
+nsok
+nsimethodimp
+nsparsemailmessagestate
+getnewmsghdr
+nsimsgdbhdr
+amsgheader
+amsgheader
+amsgheader
+mnewmsghdr
+nsifaddref
+amsgheader
+nsok
+nsimethodimp
+nsparsemailmessagestate
+parseafolderline
+line
+pruint
+linelength
+parsefolderline
+line
+linelength
+nsok
+print
+nsparsemailmessagestate
+parsefolderline
+line
+pruint
+linelength
+status
+mstate
+nsimsgparsemailmsgstate
+parseheadersstate
+emptymessageline
+line
+status
+parseheaders
+nsassertion
+status
+error
+parsing
+headers
+parsing
+mailbox
+status
+status
+status
+finalizeheaders
+nsassertion
+status
+error
+finalizing
+headers
+parsing
+mailbox
+status
+status
+mstate
+nsimsgparsemailmsgstate
+parsebodystate
+mheaders
+appendbuffer
+line
+linelength
+mstate
+nsimsgparsemailmsgstate
+parsebodystate
+mbodylines
+mposition
+linelength
+nsimethodimp
+nsparsemailmessagestate
+setmaildb
+nsimsgdatabase
+maildb
+mmaildb
+maildb
+nsok
+nsimethodimp
+nsparsemailmessagestate
+setdbfolderstream
+nsiofilestream
+filestream
+nsassertion
+mmaildb
+mmaildb
+is
+set
+mmaildb
+mmaildb
+setfolderstream
+filestream
+nsok
+prbool
+nsparsemailmessagestate
+isenvelopeline
+buf
+print
+bufsize
+ifdef
+strictenvelope
+date
+end
+bufsize
+prfalse
+buf
+prfalse
+strncmp
+buf
+from
+prfalse
+end
+buf
+bufsize
+date
+buf
+date
+date
+date
+end
+date
+isspace
+date
+date
+end
+prfalse
+isspace
+date
+date
+end
+date
+date
+date
+date
+end
+date
+define
+tmpisalpha
+date
+end
+prfalse
+tmpisalpha
+date
+tmpisalpha
+date
+tmpisalpha
+date
+prfalse
+date
+date
+date
+date
+prfalse
+date
+date
+date
+date
+end
+date
+date
+end
+prfalse
+tmpisalpha
+date
+tmpisalpha
+date
+tmpisalpha
+date
+prfalse
+date
+date
+end
+date
+date
+prfalse
+date
+date
+date
+end
+date
+date
+date
+date
+date
+date
+end
+date
+date
+end
+date
+prfalse
+undef
+tmpisalpha
+bufsize
+prfalse
+buf
+prfalse
+strncmp
+buf
+from
+prfalse
+endif
+prtrue
+nsimethodimp
+nsparsemailmessagestate
+finishheader
+mnewmsghdr
+mnewmsghdr
+setmessagekey
+menvelopepos
+mnewmsghdr
+setmessagesize
+mposition
+menvelopepos
+mnewmsghdr
+setlinecount
+mbodylines
+nsok
+nsimethodimp
+nsparsemailmessagestate
+getallheaders
+pheaders
+print
+pheaderssize
+pheaders
+pheaderssize
+nserrornullpointer
+pheaders
+mheaders
+getbuffer
+pheaderssize
+mheaders
+getbufferpos
+nsok
+nsimethodimp
+nsparsemailmessagestate
+getheaders
+pheaders
+nsensureargpointer
+pheaders
+nscstring
+crlfheaders
+curheader
+mheaders
+getbuffer
+pruint
+headerpos
+headerpos
+mheaders
+getbufferpos
+crlfheaders
+append
+curheader
+crlfheaders
+append
+crlf
+print
+headerlen
+strlen
+curheader
+curheader
+headerlen
+headerpos
+headerlen
+pheaders
+nscrt
+strdup
+crlfheaders
+get
+nsok
+messageheader
+nsparsemailmessagestate
+getnextheaderinaggregate
+nsvoidarray
+list
+messageheader
+header
+messageheader
+prcalloc
+messageheader
+list
+appendelement
+header
+header
+nsparsemailmessagestate
+getaggregateheader
+nsvoidarray
+list
+messageheader
+outheader
+messageheader
+header
+nsnull
+length
+list
+count
+header
+messageheader
+list
+elementat
+length
+header
+length
+nsassertion
+header
+length
+print
+strlen
+header
+value
+header
+corrupted
+length
+value
+prmalloc
+length
+value
+value
+size
+list
+count
+size
+header
+messageheader
+list
+elementat
+plstrcat
+value
+header
+value
+size
+plstrcat
+value
+outheader
+length
+length
+outheader
+value
+value
+outheader
+length
+outheader
+value
+nsnull
+nsparsemailmessagestate
+clearaggregateheader
+nsvoidarray
+list
+list
+count
+prfree
+messageheader
+list
+elementat
+list
+clear
+nsparsemailmessagestate
+startnewenvelope
+line
+pruint
+linelength
+menvelopepos
+mposition
+mstate
+nsimsgparsemailmsgstate
+parseheadersstate
+mposition
+linelength
+mheaderstartpos
+mposition
+parseenvelope
+line
+linelength
+nsparsemailmessagestate
+parseheaders
+buf
+mheaders
+getbuffer
+bufend
+buf
+mheaders
+getbufferpos
+buf
+bufend
+colon
+plstrchr
+buf
+end
+value
+messageheader
+header
+colon
+end
+colon
+end
+buf
+end
+end
+end
+buf
+nscrt
+strncasecmp
+cc
+buf
+end
+buf
+header
+getnextheaderinaggregate
+mcclist
+nscrt
+strncasecmp
+content
+type
+buf
+end
+buf
+header
+mcontenttype
+nscrt
+strncasecmp
+date
+buf
+end
+buf
+header
+mdate
+nscrt
+strncasecmp
+disposition
+notification
+to
+buf
+end
+buf
+header
+mmdndnt
+nscrt
+strncasecmp
+from
+buf
+end
+buf
+header
+mfrom
+nscrt
+strncasecmp
+in
+reply
+to
+buf
+end
+buf
+header
+minreplyto
+nscrt
+strncasecmp
+message
+id
+buf
+end
+buf
+header
+mmessageid
+nscrt
+strncasecmp
+newsgroups
+buf
+end
+buf
+header
+mnewsgroups
+nscrt
+strncasecmp
+original
+recipient
+buf
+end
+buf
+header
+mmdnoriginalrecipient
+nscrt
+strncasecmp
+references
+buf
+end
+buf
+header
+mreferences
+nscrt
+strncasecmp
+return
+path
+buf
+end
+buf
+header
+mreturnpath
+nscrt
+strncasecmp
+return
+receipt
+to
+buf
+end
+buf
+header
+mmdndnt
+nscrt
+strncasecmp
+subject
+buf
+end
+buf
+header
+msubject
+nscrt
+strncasecmp
+sender
+buf
+end
+buf
+header
+msender
+nscrt
+strncasecmp
+status
+buf
+end
+buf
+header
+mstatus
+nscrt
+strncasecmp
+to
+buf
+end
+buf
+header
+getnextheaderinaggregate
+mtolist
+xmozillastatuslen
+end
+buf
+nscrt
+strncasecmp
+xmozillastatus
+buf
+end
+buf
+mignorexmozillastatus
+header
+mmozstatus
+xmozillastatuslen
+end
+buf
+nscrt
+strncasecmp
+xmozillastatus
+buf
+end
+buf
+mignorexmozillastatus
+header
+mmozstatus
+nscrt
+strncasecmp
+priority
+buf
+end
+buf
+nscrt
+strncasecmp
+priority
+buf
+end
+buf
+header
+mpriority
+buf
+colon
+buf
+buf
+buf
+value
+buf
+header
+header
+value
+value
+searchnewline
+buf
+buf
+nscrt
+cr
+buf
+nscrt
+lf
+buf
+buf
+bufend
+buf
+bufend
+buf
+nscrt
+cr
+buf
+nscrt
+lf
+buf
+buf
+buf
+searchnewline
+buf
+nscrt
+cr
+buf
+nscrt
+lf
+buf
+buf
+buf
+searchnewline
+header
+header
+length
+buf
+header
+value
+buf
+nscrt
+cr
+buf
+nscrt
+lf
+last
+buf
+buf
+nscrt
+cr
+buf
+nscrt
+lf
+buf
+buf
+last
+header
+isspace
+header
+value
+header
+value
+header
+length
+header
+length
+isspace
+header
+value
+header
+length
+header
+value
+header
+length
+nsparsemailmessagestate
+parseenvelope
+line
+pruint
+linesize
+end
+menvelope
+appendbuffer
+line
+linesize
+end
+menvelope
+getbuffer
+linesize
+menvelope
+getbuffer
+end
+isspace
+menvelopefrom
+value
+end
+isspace
+menvelopefrom
+length
+menvelopefrom
+value
+end
+isspace
+menvelopedate
+value
+menvelopedate
+length
+pruint
+linesize
+menvelope
+getbuffer
+isspace
+menvelopedate
+value
+menvelopedate
+length
+menvelopedate
+length
+menvelopefrom
+value
+menvelopefrom
+length
+menvelopedate
+value
+menvelopedate
+length
+ifdef
+wecondensemimestrings
+msgcondensemimestring
+sourcestr
+returnval
+nscrt
+strdup
+sourcestr
+returnval
+nsnull
+mimestripcontinuations
+returnval
+returnval
+endif
+nsparsemailmessagestate
+internsubject
+messageheader
+header
+key
+pruint
+header
+header
+length
+mnewmsghdr
+setsubject
+nsassertion
+header
+length
+strlen
+header
+value
+subject
+corrupt
+parsing
+message
+key
+header
+value
+header
+length
+pruint
+flags
+mnewmsghdr
+getflags
+flags
+nsxpidlcstring
+modifiedsubject
+nsmsgstripre
+key
+gettercopies
+modifiedsubject
+flags
+msgflaghasre
+flags
+msgflaghasre
+mnewmsghdr
+setflags
+flags
+ifdef
+wecondensemimestrings
+condensedkey
+msgcondensemimestring
+modifiedsubject
+isempty
+key
+modifiedsubject
+get
+condensedkey
+nsnull
+endif
+mnewmsghdr
+setsubject
+condensedkey
+condensedkey
+modifiedsubject
+isempty
+key
+modifiedsubject
+get
+prfreeif
+condensedkey
+nsresult
+nsparsemailmessagestate
+internrfc
+messageheader
+header
+retname
+nsresult
+ret
+nsok
+header
+header
+length
+nsok
+nsassertion
+header
+length
+strlen
+header
+value
+invalid
+messageheader
+nsassertion
+retname
+nsnull
+retname
+mheaderaddressparser
+ret
+mheaderaddressparser
+extractheaderaddressname
+nsnull
+header
+value
+nserroroutofmemory
+retname
+ret
+nsparsemailmessagestate
+finalizeheaders
+status
+messageheader
+sender
+messageheader
+recipient
+messageheader
+subject
+messageheader
+id
+messageheader
+inreplyto
+messageheader
+references
+messageheader
+date
+messageheader
+statush
+messageheader
+mozstatus
+messageheader
+mozstatus
+messageheader
+priority
+messageheader
+cclist
+messageheader
+mdndnt
+messageheader
+mdheader
+messageheader
+contenttype
+mdbin
+mddata
+pruint
+flags
+pruint
+delta
+nsmsgpriorityvalue
+priorityflags
+nsmsgpriority
+notset
+pruint
+labelflags
+mmaildb
+messageheader
+to
+getaggregateheader
+mtolist
+to
+messageheader
+cc
+getaggregateheader
+mcclist
+cc
+sender
+mfrom
+length
+mfrom
+msender
+length
+msender
+menvelopefrom
+length
+menvelopefrom
+recipient
+to
+length
+to
+cc
+length
+cc
+mnewsgroups
+length
+mnewsgroups
+sender
+cclist
+cc
+length
+cc
+subject
+msubject
+length
+msubject
+id
+mmessageid
+length
+mmessageid
+references
+mreferences
+length
+mreferences
+statush
+mstatus
+length
+mstatus
+mozstatus
+mmozstatus
+length
+mmozstatus
+mozstatus
+mmozstatus
+length
+mmozstatus
+date
+mdate
+length
+mdate
+menvelopedate
+length
+menvelopedate
+priority
+mpriority
+length
+mpriority
+mdndnt
+mmdndnt
+length
+mmdndnt
+inreplyto
+minreplyto
+length
+minreplyto
+contenttype
+mcontenttype
+length
+mcontenttype
+mozstatus
+strlen
+mozstatus
+value
+mozstatus
+value
+flags
+flags
+msgunhex
+flags
+msgflagruntimeonly
+priorityflags
+nsmsgpriorityvalue
+flags
+msgflagpriorities
+flags
+msgflagpriorities
+delta
+mheaderstartpos
+mozstatus
+value
+mheaders
+getbuffer
+xmozillastatuslen
+menvelopepos
+mozstatus
+pruint
+flags
+sscanf
+mozstatus
+value
+flags
+flags
+flags
+flags
+msgflagexpunged
+nsresult
+ret
+mmaildb
+createnewhdr
+menvelopepos
+getteraddrefs
+mnewmsghdr
+nssucceeded
+ret
+mnewmsghdr
+pruint
+origflags
+mnewmsghdr
+getflags
+origflags
+origflags
+msgflaghasre
+flags
+msgflaghasre
+flags
+msgflaghasre
+flags
+msgflagoffline
+mdndnt
+origflags
+msgflagread
+origflags
+msgflagmdnreportsent
+flags
+msgflagmdnreportsent
+flags
+msgflagmdnreportneeded
+mnewmsghdr
+setflags
+flags
+priorityflags
+nsmsgpriority
+notset
+mnewmsghdr
+setpriority
+priorityflags
+mozstatus
+labelflags
+flags
+msgflaglabels
+mnewmsghdr
+setlabel
+labelflags
+delta
+xffff
+mnewmsghdr
+setstatusoffset
+pruint
+delta
+mignorexmozillastatus
+pruint
+offset
+mnewmsghdr
+getstatusoffset
+offset
+nsassertion
+offset
+invalid
+status
+offset
+sender
+mnewmsghdr
+setauthor
+sender
+value
+recipient
+mnewsgroups
+ch
+nsassertion
+recipient
+length
+pruint
+strlen
+recipient
+value
+invalid
+recipient
+ch
+plstrchr
+recipient
+value
+ch
+nscautostring
+firstgroup
+firstgroup
+assign
+recipient
+value
+ch
+recipient
+value
+mnewmsghdr
+setrecipients
+firstgroup
+get
+mnewmsghdr
+setrecipients
+recipient
+value
+recipient
+pruint
+numaddresses
+names
+addresses
+ret
+mheaderaddressparser
+parseheaderaddresses
+nsnull
+recipient
+value
+names
+addresses
+numaddresses
+ret
+nsok
+mnewmsghdr
+setrecipientsarray
+names
+addresses
+numaddresses
+prfree
+addresses
+prfree
+names
+mnewmsghdr
+setrecipients
+recipient
+value
+cclist
+pruint
+numaddresses
+names
+addresses
+ret
+mheaderaddressparser
+parseheaderaddresses
+nsnull
+cclist
+value
+names
+addresses
+numaddresses
+ret
+nsok
+mnewmsghdr
+setcclistarray
+names
+addresses
+numaddresses
+prfree
+addresses
+prfree
+names
+mnewmsghdr
+setcclist
+cclist
+value
+status
+internsubject
+subject
+status
+id
+ifdef
+simplemd
+hashhashbuf
+hashalgmd
+mdbin
+mheaders
+mheadersfp
+memcpy
+mdbin
+dummy
+message
+id
+mdbin
+endif
+prsnprintf
+mddata
+mddata
+md
+mdbin
+mdbin
+mdbin
+mdbin
+mdbin
+mdbin
+mdbin
+mdbin
+mdbin
+mdbin
+mdbin
+mdbin
+mdbin
+mdbin
+mdbin
+mdbin
+mdheader
+value
+mddata
+mdheader
+length
+strlen
+mddata
+id
+mdheader
+id
+value
+id
+value
+id
+length
+id
+value
+id
+length
+nscautostring
+rawmsgid
+rawmsgid
+assign
+id
+value
+id
+length
+mnewmsghdr
+setmessageid
+rawmsgid
+get
+mnewmsghdr
+setmessageid
+id
+value
+mozstatus
+statush
+statush
+value
+pruint
+msgflags
+mnewmsghdr
+getflags
+msgflags
+mnewmsghdr
+setflags
+msgflags
+msgflagread
+mnewmsghdr
+setflags
+msgflags
+msgflagread
+references
+nsnull
+mnewmsghdr
+setreferences
+references
+value
+inreplyto
+nsnull
+mnewmsghdr
+setreferences
+inreplyto
+value
+date
+prtime
+resulttime
+prstatus
+timestatus
+prparsetimestring
+date
+value
+prfalse
+resulttime
+prsuccess
+timestatus
+mnewmsghdr
+setdate
+nstime
+resulttime
+priority
+mnewmsghdr
+setprioritystring
+priority
+value
+priorityflags
+nsmsgpriority
+notset
+mnewmsghdr
+setpriority
+nsmsgpriority
+none
+contenttype
+substring
+plstrstr
+contenttype
+value
+charset
+substring
+charset
+plstrchr
+substring
+charset
+charset
+charset
+isspace
+charset
+charset
+charset
+end
+charset
+end
+isspace
+end
+end
+end
+end
+charset
+end
+nscautostring
+rawcharset
+rawcharset
+assign
+charset
+end
+charset
+mnewmsghdr
+setcharset
+rawcharset
+get
+mnewmsghdr
+setcharset
+charset
+nsassertion
+prfalse
+error
+creating
+message
+header
+status
+nserroroutofmemory
+status
+tmp
+to
+value
+prfree
+tmp
+tmp
+cc
+value
+prfree
+tmp
+status
+nsparsenewmailstate
+nsparsenewmailstate
+mdisablefilters
+prfalse
+minboxfilestream
+nsnull
+mibuffer
+nsnull
+mibuffersize
+mibufferfp
+nsimplisupportsinherited
+nsparsenewmailstate
+nsmsgmailboxparser
+nsimsgfilterhitnotify
+nsresult
+nsparsenewmailstate
+init
+nsifolder
+rootfolder
+nsimsgfolder
+downloadfolder
+nsfilespec
+folder
+nsiofilestream
+inboxfilestream
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+mposition
+folder
+getfilesize
+mrootfolder
+rootfolder
+minboxfilespec
+folder
+minboxfilestream
+inboxfilestream
+mmsgwindow
+amsgwindow
+nscomptr
+nsimsgdatabase
+maildb
+rv
+nscomponentmanager
+createinstance
+kcmaildb
+nsnull
+nsgetiid
+nsimsgdatabase
+getteraddrefs
+maildb
+nssucceeded
+rv
+maildb
+nscomptr
+nsifilespec
+dbfilespec
+nsnewfilespecwithspec
+folder
+getteraddrefs
+dbfilespec
+rv
+maildb
+openfolderdb
+downloadfolder
+prtrue
+prfalse
+nsimsgdatabase
+getteraddrefs
+mmaildb
+nsfailed
+rv
+rv
+nscomptr
+nsimsgfolder
+rootmsgfolder
+doqueryinterface
+rootfolder
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+rootmsgfolder
+getserver
+getteraddrefs
+server
+nssucceeded
+rv
+rv
+server
+getfilterlist
+amsgwindow
+getteraddrefs
+mfilterlist
+mfilterlist
+rv
+server
+configuretemporaryreturnreceiptsfilter
+mfilterlist
+mdisablefilters
+prfalse
+nsok
+nsparsenewmailstate
+nsparsenewmailstate
+mmaildb
+mmaildb
+close
+prtrue
+ifdef
+doingjsfilters
+jsfiltercleanup
+endif
+nsparsenewmailstate
+getmsgwindow
+nsimsgwindow
+amsgwindow
+nsifaddref
+amsgwindow
+mmsgwindow
+nsparsenewmailstate
+doneparsingfolder
+nsresult
+status
+prbool
+moved
+prfalse
+mibufferfp
+parsefolderline
+mibuffer
+mibufferfp
+mibufferfp
+publishmsgheader
+nsnull
+moved
+mmaildb
+updatedbfolderinfo
+prfreeif
+mibuffer
+mibuffersize
+prfreeif
+mobuffer
+mobuffersize
+print
+nsparsenewmailstate
+publishmsgheader
+nsimsgwindow
+msgwindow
+prbool
+moved
+prfalse
+finishheader
+mnewmsghdr
+foldertypespecifictweakmsgheader
+mnewmsghdr
+mdisablefilters
+minboxfilestream
+flush
+applyfilters
+moved
+msgwindow
+moved
+mmaildb
+pruint
+newflags
+oldflags
+mnewmsghdr
+getflags
+oldflags
+oldflags
+msgflagread
+mnewmsghdr
+orflags
+msgflagnew
+newflags
+mmaildb
+addnewhdrtodb
+mnewmsghdr
+prtrue
+mnewmsghdr
+nsnull
+nsresult
+nsparsenewmailstate
+gettrashfolder
+nsimsgfolder
+ptrashfolder
+nsresult
+rv
+nserrorunexpected
+ptrashfolder
+nserrornullpointer
+mrootfolder
+nscomptr
+nsimsgfolder
+rootmsgfolder
+doqueryinterface
+mrootfolder
+rootmsgfolder
+pruint
+numfolders
+rv
+rootmsgfolder
+getfolderswithflag
+msgfolderflagtrash
+numfolders
+ptrashfolder
+ptrashfolder
+nsaddref
+ptrashfolder
+rv
+nsparsenewmailstate
+applyfilters
+prbool
+pmoved
+nsimsgwindow
+msgwindow
+mmsgmovedbyfilter
+prfalse
+nscomptr
+nsimsgdbhdr
+msghdr
+mnewmsghdr
+nscomptr
+nsimsgfolder
+inbox
+nscomptr
+nsimsgfolder
+rootmsgfolder
+doqueryinterface
+mrootfolder
+rootmsgfolder
+pruint
+numfolders
+rootmsgfolder
+getfolderswithflag
+msgfolderflaginbox
+numfolders
+getteraddrefs
+inbox
+inbox
+inbox
+geturi
+gettercopies
+minboxuri
+headers
+mheaders
+getbuffer
+pruint
+headerssize
+mheaders
+getbufferpos
+nsresult
+matchtermstatus
+mfilterlist
+matchtermstatus
+mfilterlist
+applyfilterstohdr
+nsmsgfiltertype
+inboxrule
+msghdr
+inbox
+mmaildb
+headers
+headerssize
+msgwindow
+pmoved
+pmoved
+mmsgmovedbyfilter
+nsimethodimp
+nsparsenewmailstate
+applyfilterhit
+nsimsgfilter
+filter
+nsimsgwindow
+msgwindow
+prbool
+applymore
+nsensureargpointer
+applymore
+nsmsgruleactiontype
+actiontype
+nsxpidlcstring
+actiontargetfolderuri
+pruint
+newflags
+nsresult
+rv
+nsok
+applymore
+prtrue
+nscomptr
+nsimsgdbhdr
+msghdr
+mnewmsghdr
+nscomptr
+nsisupportsarray
+filteractionlist
+rv
+nsnewisupportsarray
+getteraddrefs
+filteractionlist
+nsensuresuccess
+rv
+rv
+rv
+filter
+getsortedactionlist
+filteractionlist
+nsensuresuccess
+rv
+rv
+ifdef
+debugbienvenu
+printf
+got
+rule
+hit
+endif
+pruint
+numactions
+rv
+filteractionlist
+count
+numactions
+nsensuresuccess
+rv
+rv
+prbool
+loggingenabled
+prfalse
+mfilterlist
+numactions
+mfilterlist
+getloggingenabled
+loggingenabled
+pruint
+actionindex
+actionindex
+numactions
+applymore
+actionindex
+nscomptr
+nsimsgruleaction
+filteraction
+filteractionlist
+queryelementat
+actionindex
+nsgetiid
+nsimsgruleaction
+getteraddrefs
+filteraction
+filteraction
+nssucceeded
+filteraction
+gettype
+actiontype
+actiontype
+nsmsgfilteraction
+movetofolder
+filteraction
+gettargetfolderuri
+gettercopies
+actiontargetfolderuri
+actiontargetfolderuri
+isempty
+nsassertion
+prfalse
+actiontargetfolderuri
+is
+empty
+actiontype
+nsmsgfilteraction
+delete
+nscomptr
+nsimsgfolder
+trash
+rv
+gettrashfolder
+getteraddrefs
+trash
+nssucceeded
+rv
+trash
+rv
+trash
+geturi
+gettercopies
+actiontargetfolderuri
+msghdr
+orflags
+msgflagread
+newflags
+nsmsgfilteraction
+movetofolder
+actiontargetfolderuri
+nscrt
+strcasecmp
+minboxuri
+actiontargetfolderuri
+nsresult
+err
+moveincorporatedmessage
+msghdr
+mmaildb
+actiontargetfolderuri
+filter
+msgwindow
+nssucceeded
+err
+loggingenabled
+filter
+logrulehit
+filteraction
+msghdr
+mmaildb
+removeheadermdbrow
+msghdr
+mmsgmovedbyfilter
+prtrue
+applymore
+prfalse
+nsmsgfilteraction
+markread
+markfilteredmessageread
+msghdr
+nsmsgfilteraction
+killthread
+msghdr
+orflags
+msgflagignored
+newflags
+nsmsgfilteraction
+watchthread
+msghdr
+orflags
+msgflagwatched
+newflags
+nsmsgfilteraction
+markflagged
+msghdr
+markflagged
+prtrue
+nsmsgfilteraction
+changepriority
+nsmsgpriorityvalue
+filterpriority
+filteraction
+getpriority
+filterpriority
+msghdr
+setpriority
+filterpriority
+nsmsgfilteraction
+label
+nsmsglabelvalue
+filterlabel
+filteraction
+getlabel
+filterlabel
+nsmsgkey
+msgkey
+msghdr
+getmessagekey
+msgkey
+mmaildb
+setlabel
+msgkey
+filterlabel
+loggingenabled
+actiontype
+nsmsgfilteraction
+movetofolder
+actiontype
+nsmsgfilteraction
+delete
+filter
+logrulehit
+filteraction
+msghdr
+rv
+nsparsenewmailstate
+markfilteredmessageread
+nsimsgdbhdr
+msghdr
+pruint
+newflags
+mmaildb
+mmaildb
+markhdrread
+msghdr
+prtrue
+nsnull
+msghdr
+orflags
+msgflagread
+newflags
+nsresult
+nsparsenewmailstate
+moveincorporatedmessage
+nsimsgdbhdr
+mailhdr
+nsimsgdatabase
+sourcedb
+nsacstring
+destfolderuri
+nsimsgfilter
+filter
+nsimsgwindow
+msgwindow
+nsresult
+err
+nsiofilestream
+destfile
+nscomptr
+nsirdfservice
+rdf
+dogetservice
+krdfservicecid
+err
+nscomptr
+nsirdfresource
+res
+err
+rdf
+getresource
+destfolderuri
+getteraddrefs
+res
+nsfailed
+err
+err
+nscomptr
+nsimsgfolder
+destifolder
+doqueryinterface
+res
+err
+nsfailed
+err
+err
+prbool
+canfilemessages
+prtrue
+nscomptr
+nsifolder
+parentfolder
+destifolder
+getparent
+getteraddrefs
+parentfolder
+parentfolder
+destifolder
+getcanfilemessages
+canfilemessages
+parentfolder
+canfilemessages
+filter
+setenabled
+prfalse
+destifolder
+throwalertmsg
+filterdisabled
+msgwindow
+nsmsgnotamailfolder
+nscomptr
+nsifilespec
+destifolderspec
+nsfilespec
+destfolderspec
+destifolder
+getpath
+getteraddrefs
+destifolderspec
+err
+destifolderspec
+getfilespec
+destfolderspec
+nsfailed
+err
+err
+nscomptr
+nsisupports
+myisupports
+doqueryinterface
+nsstaticcast
+nsimsgparsemailmsgstate
+destifolder
+err
+destifolder
+acquiresemaphore
+myisupports
+destifolder
+throwalertmsg
+filterfolderdeniedlocked
+msgwindow
+err
+nsassertion
+minboxfilestream
+no
+input
+file
+stream
+minboxfilestream
+ifdef
+debugbienvenu
+nsassertion
+prfalse
+couldn
+get
+source
+file
+in
+move
+filter
+endif
+destifolder
+destifolder
+releasesemaphore
+myisupports
+nsmsgfolderunreadable
+pruint
+messageoffset
+mailhdr
+getmessageoffset
+messageoffset
+minboxfilestream
+seek
+prseekset
+messageoffset
+newmsgpos
+destfile
+nsiofilestream
+destfolderspec
+prwronly
+prcreatefile
+destfile
+ifdef
+debugbienvenu
+nsassertion
+prfalse
+out
+of
+memory
+endif
+destifolder
+destifolder
+releasesemaphore
+myisupports
+destifolder
+throwalertmsg
+filterfolderwritefailed
+msgwindow
+nsmsgerrorwritingmailfolder
+destfile
+seek
+prseekend
+newmsgpos
+destfile
+tell
+nscomptr
+nsimsglocalmailfolder
+localfolder
+doqueryinterface
+destifolder
+nscomptr
+nsimsgdatabase
+destmaildb
+localfolder
+nsmsgpopfiltertargeterror
+nsresult
+rv
+localfolder
+getdatabaseworeparse
+getteraddrefs
+destmaildb
+nsassertion
+destmaildb
+failed
+to
+open
+mail
+db
+parsing
+folder
+pruint
+length
+mailhdr
+getmessagesize
+length
+mibuffer
+mibuffersize
+mibufferfp
+mibuffer
+mibuffersize
+mibuffer
+prmalloc
+mibuffersize
+mibuffer
+nsnull
+mibuffersize
+nsassertion
+mibuffer
+nsnull
+couldn
+get
+memory
+to
+move
+msg
+length
+mibuffer
+pruint
+nread
+minboxfilestream
+read
+mibuffer
+length
+mibuffersize
+mibuffersize
+length
+nread
+destfile
+write
+mibuffer
+nread
+print
+nread
+destfile
+close
+destfolderspec
+truncate
+newmsgpos
+destifolder
+destifolder
+releasesemaphore
+myisupports
+destmaildb
+destmaildb
+close
+prtrue
+destifolder
+throwalertmsg
+filterfolderwritefailed
+msgwindow
+nsmsgerrorwritingmailfolder
+length
+nread
+nsassertion
+length
+didn
+read
+all
+of
+original
+message
+in
+filter
+move
+nssucceeded
+rv
+destmaildb
+nscomptr
+nsimsgdbhdr
+newhdr
+nsresult
+msgerr
+destmaildb
+copyhdrfromexistinghdr
+newmsgpos
+mailhdr
+prtrue
+getteraddrefs
+newhdr
+nssucceeded
+msgerr
+newhdr
+pruint
+newflags
+newhdr
+setmessagekey
+newmsgpos
+newhdr
+orflags
+msgflagnew
+newflags
+destmaildb
+addtonewlist
+newmsgpos
+destmaildb
+destmaildb
+nsnull
+destifolder
+sethasnewmessages
+prtrue
+destfile
+close
+destfile
+minboxfilestream
+close
+nsresult
+truncret
+minboxfilespec
+truncate
+messageoffset
+nsassertion
+nssucceeded
+truncret
+unable
+to
+truncate
+file
+minboxfilestream
+open
+minboxfilespec
+prrdwr
+prcreatefile
+minboxfilestream
+minboxfilestream
+seek
+minboxfilespec
+getfilesize
+destifolder
+destifolder
+releasesemaphore
+myisupports
+mailhdr
+getmessageoffset
+messageoffset
+nsparsemailmessagestate
+init
+messageoffset
+localfolder
+refreshsizeondisk
+destifolder
+destifolder
+setflag
+msgfolderflaggotnew
+destmaildb
+nsnull
+updatedbfolderinfo
+destmaildb
+destifolder
+nsnull
+destifolder
+updatesummarytotals
+prtrue
+destmaildb
+commit
+nsmsgdbcommittype
+klargecommit
+err
\ No newline at end of file
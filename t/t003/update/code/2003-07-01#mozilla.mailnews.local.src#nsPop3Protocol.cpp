@@ -0,0 +1,4294 @@
+ifdef
+mozlogging
+define
+forceprlog
+endif
+nscore
+msgcore
+nsnetutil
+nspr
+nscrt
+plbase
+nsimsgmailnewsurl
+nspopprotocol
+nsfilespec
+nsfilestream
+mailnewstypes
+nsstring
+nsxpidlstring
+nsiprompt
+nsimsgincomingserver
+nslocalstringbundle
+nstextformatter
+nscomptr
+nsipref
+nsimsgwindow
+nsimsgfolder
+nsidocshell
+nsescape
+nsmsgutils
+nsisignatureverifier
+define
+extrasafetyspace
+define
+klargenumberofmessages
+prlogmoduleinfo
+poplogmodule
+nsnull
+nsdefinecid
+kprefservicecid
+nsprefcid
+printn
+prcallback
+netpopcheckforhashmessagesmarkeddelete
+plhashentry
+he
+printn
+msgindex
+arg
+valuechar
+nsptrtoint
+he
+value
+valuechar
+deletechar
+popcondata
+arg
+deleteservermessageduringtoptraversal
+prtrue
+htenumeratestop
+htenumeratenext
+printn
+prcallback
+netpopremovemessagesmarkeddelete
+plhashentry
+he
+printn
+msgindex
+arg
+valuechar
+he
+value
+valuechar
+deletechar
+htenumerateremove
+htenumeratenext
+puthash
+popuidlhost
+host
+plhashtable
+table
+key
+value
+popallocedstring
+tmp
+value
+tmp
+prnewzap
+popallocedstring
+tmp
+tmp
+str
+plstrdup
+key
+tmp
+str
+tmp
+next
+host
+strings
+host
+strings
+tmp
+plhashtableadd
+table
+tmp
+str
+prfree
+tmp
+popuidlhost
+netpoploadstate
+searchhost
+searchuser
+nsifilespec
+maildirectory
+buf
+newstr
+host
+user
+uidl
+flags
+popuidlhost
+result
+nsnull
+popuidlhost
+current
+nsnull
+popuidlhost
+tmp
+result
+prnewzap
+popuidlhost
+result
+nsnull
+result
+host
+plstrdup
+searchhost
+result
+user
+plstrdup
+searchuser
+result
+hash
+plnewhashtable
+plhashstring
+plcomparestrings
+plcomparevalues
+nsnull
+nsnull
+result
+host
+result
+user
+result
+hash
+prfree
+result
+host
+prfree
+result
+user
+result
+hash
+plhashtabledestroy
+result
+hash
+prfree
+result
+nsnull
+nsfilespec
+filespec
+maildirectory
+getfilespec
+filespec
+filespec
+popstate
+dat
+nsinputfilestream
+filestream
+filespec
+buf
+prcalloc
+buf
+filestream
+eof
+filestream
+failed
+filestream
+isopen
+filestream
+readline
+buf
+buf
+buf
+nscrt
+cr
+buf
+nscrt
+lf
+buf
+buf
+current
+host
+nscrt
+strtok
+buf
+newstr
+user
+nscrt
+strtok
+newstr
+newstr
+host
+user
+tmp
+result
+tmp
+tmp
+tmp
+next
+plstrcmp
+host
+tmp
+host
+plstrcmp
+user
+tmp
+user
+current
+tmp
+current
+current
+prnewzap
+popuidlhost
+current
+current
+host
+plstrdup
+host
+current
+user
+plstrdup
+user
+current
+hash
+plnewhashtable
+plhashstring
+plcomparestrings
+plcomparevalues
+nsnull
+nsnull
+current
+host
+current
+user
+current
+hash
+prfree
+current
+host
+prfree
+current
+user
+current
+hash
+plhashtabledestroy
+current
+hash
+prfree
+current
+current
+next
+result
+next
+result
+next
+current
+current
+flags
+nscrt
+strtok
+buf
+newstr
+uidl
+nscrt
+strtok
+newstr
+newstr
+flags
+uidl
+prassert
+flags
+keep
+flags
+deletechar
+flags
+toobig
+flags
+keep
+flags
+deletechar
+flags
+toobig
+puthash
+current
+current
+hash
+uidl
+flags
+prfree
+buf
+filestream
+isopen
+filestream
+close
+result
+printn
+prcallback
+hashclearmapper
+plhashentry
+he
+printn
+msgindex
+arg
+ifdef
+unreadycode
+prfreeif
+he
+key
+endif
+htenumerateremove
+printn
+prcallback
+hashemptymapper
+plhashentry
+he
+printn
+msgindex
+arg
+prbool
+arg
+prfalse
+htenumeratestop
+prbool
+hashempty
+plhashtable
+hash
+prbool
+result
+prtrue
+plhashtableenumerateentries
+hash
+hashemptymapper
+result
+result
+printn
+prcallback
+netpopwritemapper
+plhashentry
+he
+printn
+msgindex
+arg
+nsoutputfilestream
+file
+nsoutputfilestream
+arg
+prassert
+he
+value
+keep
+he
+value
+deletechar
+he
+value
+toobig
+tmpbuffer
+prsmprintf
+msglinebreak
+he
+value
+he
+key
+prassert
+tmpbuffer
+file
+tmpbuffer
+prfree
+tmpbuffer
+htenumeratenext
+netpopwritestate
+popuidlhost
+host
+nsifilespec
+maildirectory
+print
+len
+nsfilespec
+filespec
+maildirectory
+getfilespec
+filespec
+filespec
+popstate
+dat
+nsoutputfilestream
+outfilestream
+filespec
+prwronly
+prcreatefile
+prtruncate
+tmpbuffer
+pop
+state
+file
+msglinebreak
+this
+is
+generated
+file
+do
+edit
+msglinebreak
+msglinebreak
+outfilestream
+tmpbuffer
+host
+len
+host
+host
+next
+hashempty
+host
+hash
+outfilestream
+outfilestream
+host
+host
+outfilestream
+outfilestream
+host
+user
+outfilestream
+msglinebreak
+plhashtableenumerateentries
+host
+hash
+netpopwritemapper
+outfilestream
+outfilestream
+isopen
+outfilestream
+flush
+outfilestream
+close
+readpopdata
+hostname
+username
+nsifilespec
+maildirectory
+savepopdata
+data
+nsifilespec
+maildirectory
+netpopmarkifinserver
+data
+uidl
+prbool
+deletechar
+prbool
+changed
+killpopdata
+data
+netpopfreestate
+popuidlhost
+host
+readpopdata
+hostname
+username
+nsifilespec
+maildirectory
+popuidlhost
+uidlhost
+username
+username
+uidlhost
+uidlhost
+netpoploadstate
+hostname
+username
+maildirectory
+uidlhost
+savepopdata
+data
+nsifilespec
+maildirectory
+popuidlhost
+host
+popuidlhost
+data
+host
+netpopwritestate
+host
+maildirectory
+netpopmarkifinserver
+data
+uidl
+prbool
+deletechar
+prbool
+changed
+popuidlhost
+host
+popuidlhost
+data
+host
+plhashtablelookup
+host
+hash
+uidl
+plhashtableadd
+host
+hash
+uidl
+deletechar
+deletechar
+keep
+changed
+prtrue
+killpopdata
+data
+data
+netpopfreestate
+popuidlhost
+data
+netpopfreestate
+popuidlhost
+host
+popuidlhost
+popallocedstring
+tmp
+popallocedstring
+next
+host
+host
+next
+prfree
+host
+host
+prfree
+host
+user
+plhashtabledestroy
+host
+hash
+tmp
+host
+strings
+tmp
+next
+tmp
+next
+prfree
+tmp
+str
+prfree
+tmp
+tmp
+next
+prfree
+host
+host
+nspopprotocol
+nspopprotocol
+nsiuri
+aurl
+nsmsgprotocol
+aurl
+nsmsglinebuffer
+prfalse
+mbytesinmsgreceived
+mtotalfoldersize
+mtotaldownloadsize
+mtotalbytesreceived
+mlinestreambuffer
+nsnull
+mpopcondata
+nsnull
+setlookingforcrlf
+msglinebreaklen
+nsresult
+nspopprotocol
+initialize
+nsiuri
+aurl
+nsresult
+rv
+nsok
+mpopcondata
+popcondata
+prnewzap
+popcondata
+prassert
+mpopcondata
+mpopcondata
+nserroroutofmemory
+mtotalbytesreceived
+mbytesinmsgreceived
+mtotalfoldersize
+mtotaldownloadsize
+mtotalbytesreceived
+aurl
+prbool
+issecure
+prfalse
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+aurl
+mailnewsurl
+nscomptr
+nsimsgincomingserver
+server
+mailnewsurl
+getstatusfeedback
+getteraddrefs
+mstatusfeedback
+mailnewsurl
+getserver
+getteraddrefs
+server
+nsensuretrue
+server
+nsmsginvalidormissingserver
+rv
+server
+getissecure
+issecure
+nsensuresuccess
+rv
+rv
+rv
+server
+getusesecauth
+musesecauth
+nsensuresuccess
+rv
+rv
+mpopserver
+doqueryinterface
+server
+mpopserver
+mpopserver
+getpopcapabilityflags
+mpopcondata
+capabilityflags
+murl
+doqueryinterface
+aurl
+nscomptr
+nsiinterfacerequestor
+ir
+nscomptr
+nsimsgwindow
+msgwin
+mailnewsurl
+getmsgwindow
+getteraddrefs
+msgwin
+msgwin
+nscomptr
+nsidocshell
+docshell
+msgwin
+getrootdocshell
+getteraddrefs
+docshell
+ir
+doqueryinterface
+docshell
+print
+port
+nsxpidlcstring
+hostname
+aurl
+getport
+port
+nscomptr
+nsimsgincomingserver
+server
+doqueryinterface
+mpopserver
+server
+server
+getrealhostname
+gettercopies
+hostname
+nscomptr
+nsiproxyinfo
+proxyinfo
+rv
+nsexamineforproxy
+pop
+hostname
+get
+port
+getteraddrefs
+proxyinfo
+nsfailed
+rv
+proxyinfo
+nsnull
+issecure
+rv
+opennetworksocketwithinfo
+hostname
+get
+port
+ssl
+proxyinfo
+ir
+rv
+opennetworksocketwithinfo
+hostname
+get
+port
+nsnull
+proxyinfo
+ir
+nsfailed
+rv
+rv
+poplogmodule
+poplogmodule
+prnewlogmodule
+pop
+mlinestreambuffer
+nsmsglinestreambuffer
+outputbuffersize
+prtrue
+mlinestreambuffer
+nserroroutofmemory
+mstringservice
+dogetservice
+nsmsgpopstringservicecontractid
+rv
+nspopprotocol
+nspopprotocol
+mpopcondata
+newuidl
+plhashtabledestroy
+mpopcondata
+newuidl
+netpopfreestate
+mpopcondata
+uidlinfo
+updateprogresspercent
+freemsginfo
+prfree
+mpopcondata
+onlyuidl
+prfree
+mpopcondata
+mlinestreambuffer
+mlinestreambuffer
+nspopprotocol
+setcapflag
+pruint
+flag
+mpopcondata
+capabilityflags
+flag
+nspopprotocol
+clearcapflag
+pruint
+flag
+mpopcondata
+capabilityflags
+flag
+prbool
+nspopprotocol
+testcapflag
+pruint
+flag
+mpopcondata
+capabilityflags
+flag
+nspopprotocol
+updatestatus
+print
+astatusid
+mstatusfeedback
+prunichar
+statusstring
+nsnull
+mstringservice
+getstringbyid
+astatusid
+statusstring
+updatestatuswithstring
+statusstring
+nscrt
+free
+statusstring
+nspopprotocol
+updatestatuswithstring
+prunichar
+astatusstring
+nsresult
+rv
+mprogresseventsink
+rv
+mprogresseventsink
+onstatus
+mchannelcontext
+nsok
+astatusstring
+nsassertion
+nssucceeded
+rv
+dropping
+error
+result
+nspopprotocol
+updateprogresspercent
+pruint
+totaldone
+pruint
+total
+mprogresseventsink
+mprogresseventsink
+onprogress
+mchannelcontext
+print
+totaldone
+print
+total
+nspopprotocol
+setusername
+name
+nsassertion
+name
+no
+name
+specified
+name
+musername
+name
+nsresult
+nspopprotocol
+getpassword
+apassword
+prbool
+okayvalue
+nsresult
+rv
+nsok
+nscomptr
+nsimsgincomingserver
+server
+doqueryinterface
+mpopserver
+server
+testflag
+poppasswordfailed
+rv
+server
+setpassword
+nsxpidlcstring
+hostname
+nsxpidlcstring
+username
+prunichar
+passwordpromptstring
+nsnull
+server
+getrealhostname
+gettercopies
+hostname
+server
+getrealusername
+gettercopies
+username
+nsxpidlstring
+passwordtemplate
+testflag
+poppasswordfailed
+rv
+server
+forgetpassword
+nsfailed
+rv
+rv
+mstringservice
+getstringbyid
+poppreviouslyenteredpasswordisinvalidetc
+gettercopies
+passwordtemplate
+mstringservice
+getstringbyid
+popenterpasswordprompt
+gettercopies
+passwordtemplate
+passwordtemplate
+passwordpromptstring
+nstextformatter
+smprintf
+passwordtemplate
+username
+hostname
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+murl
+rv
+nsfailed
+rv
+rv
+nscomptr
+nsimsgwindow
+amsgwindow
+rv
+mailnewsurl
+getmsgwindow
+getteraddrefs
+amsgwindow
+nsfailed
+rv
+rv
+nsxpidlstring
+passwordtitle
+mstringservice
+getstringbyid
+popenterpasswordprompttitle
+gettercopies
+passwordtitle
+passwordpromptstring
+passwordtitle
+rv
+server
+getpasswordwithui
+passwordpromptstring
+passwordtitle
+get
+amsgwindow
+okayvalue
+apassword
+nstextformatter
+smprintffree
+passwordpromptstring
+clearflag
+poppasswordfailed
+nsfailed
+rv
+mpopcondata
+nextstate
+poperrordone
+rv
+nsmsginvalidormissingserver
+rv
+nsimethodimp
+nspopprotocol
+onstoprequest
+nsirequest
+request
+nsisupports
+acontext
+nsresult
+astatus
+nsresult
+rv
+nsmsgprotocol
+onstoprequest
+request
+acontext
+astatus
+mpopserver
+nscomptr
+nsimsgincomingserver
+server
+doqueryinterface
+mpopserver
+server
+server
+setserverbusy
+prfalse
+commitstate
+prtrue
+nsfailed
+astatus
+astatus
+nsbindingaborted
+abort
+rv
+nspopprotocol
+abort
+mpopcondata
+msgclosure
+mnsipopsink
+incorporateabort
+mpopcondata
+onlyuidl
+nsnull
+mpopcondata
+msgclosure
+nsnull
+mnsipopsink
+abortmaildelivery
+nsimethodimp
+nspopprotocol
+cancel
+nsresult
+status
+abort
+nsmsgprotocol
+cancel
+nsbindingaborted
+nsresult
+nspopprotocol
+loadurl
+nsiuri
+aurl
+nsisupports
+nsresult
+rv
+aurl
+murl
+doqueryinterface
+aurl
+nserrorfailure
+nscomptr
+nsiurl
+url
+doqueryinterface
+aurl
+rv
+nsfailed
+rv
+rv
+print
+port
+rv
+url
+getport
+port
+nsfailed
+rv
+rv
+rv
+nscheckportsafety
+port
+pop
+nsfailed
+rv
+rv
+nscautostring
+querypart
+rv
+url
+getquery
+querypart
+nsassertion
+nssucceeded
+rv
+unable
+to
+get
+the
+url
+spect
+mpopcondata
+onlycheckfornewmail
+plstrcasestr
+querypart
+get
+check
+nsnull
+mpopcondata
+geturl
+plstrcasestr
+querypart
+get
+gurl
+nsnull
+mpopcondata
+onlycheckfornewmail
+mpopserver
+getleavemessagesonserver
+mpopcondata
+leaveonserver
+prbool
+limitmessagesize
+prfalse
+nscomptr
+nsimsgincomingserver
+server
+doqueryinterface
+mpopserver
+server
+server
+getlimitofflinemessagesize
+limitmessagesize
+limitmessagesize
+print
+maxsize
+server
+getmaxmessagesize
+maxsize
+mpopcondata
+sizelimit
+maxsize
+maxsize
+nscomptr
+nsipopurl
+popurl
+doqueryinterface
+murl
+popurl
+popurl
+getpopsink
+getteraddrefs
+mnsipopsink
+nscomptr
+nsifilespec
+maildirectory
+nsxpidlcstring
+hostname
+nsxpidlcstring
+username
+nscomptr
+nsimsgincomingserver
+server
+doqueryinterface
+mpopserver
+server
+rv
+server
+getlocalpath
+getteraddrefs
+maildirectory
+server
+setserverbusy
+prtrue
+server
+gethostname
+gettercopies
+hostname
+server
+getusername
+gettercopies
+username
+mpopcondata
+uidlinfo
+netpoploadstate
+hostname
+username
+maildirectory
+mpopcondata
+biffstate
+nsimsgfolder
+nsmsgbiffstatenomail
+uidl
+plstrcasestr
+querypart
+get
+uidl
+prfreeif
+mpopcondata
+onlyuidl
+uidl
+uidl
+onlyuidl
+plstrdup
+uidl
+mpopcondata
+onlyuidl
+nsunescape
+onlyuidl
+msuppresslistenernotifications
+prtrue
+mpopcondata
+nextstate
+popstartconnect
+mpopcondata
+nextstateafterresponse
+popfinishconnect
+nssucceeded
+rv
+nsmsgprotocol
+loadurl
+aurl
+rv
+nspopprotocol
+freemsginfo
+mpopcondata
+msginfo
+mpopcondata
+numberofmessages
+mpopcondata
+msginfo
+uidl
+prfree
+mpopcondata
+msginfo
+uidl
+mpopcondata
+msginfo
+uidl
+nsnull
+prfree
+mpopcondata
+msginfo
+mpopcondata
+msginfo
+nsnull
+print
+nspopprotocol
+waitforstartofconnectionresponse
+nsiinputstream
+ainputstream
+pruint
+length
+line
+nsnull
+pruint
+linelength
+prbool
+pauseformoredata
+prfalse
+line
+mlinestreambuffer
+readnextline
+ainputstream
+linelength
+pauseformoredata
+prlog
+poplogmodule
+prlogalways
+recv
+line
+pauseformoredata
+line
+mpopcondata
+pauseforread
+prtrue
+prfree
+line
+linelength
+line
+mpopcondata
+commandsucceeded
+prtrue
+plstrlen
+line
+mcommandresponse
+line
+mcommandresponse
+line
+mpopcondata
+nextstate
+popprocessauth
+mpopcondata
+pauseforread
+prfalse
+prfree
+line
+print
+nspopprotocol
+waitforresponse
+nsiinputstream
+inputstream
+pruint
+length
+line
+pruint
+ln
+prbool
+pauseformoredata
+prfalse
+line
+mlinestreambuffer
+readnextline
+inputstream
+ln
+pauseformoredata
+pauseformoredata
+line
+mpopcondata
+pauseforread
+prtrue
+prfree
+line
+ln
+prlog
+poplogmodule
+prlogalways
+recv
+line
+line
+mpopcondata
+commandsucceeded
+prtrue
+plstrlen
+line
+plstrncasecmp
+line
+ok
+mcommandresponse
+line
+mcommandresponse
+line
+mcommandresponse
+line
+mpopcondata
+commandsucceeded
+prfalse
+plstrlen
+line
+mcommandresponse
+line
+mcommandresponse
+line
+mpopcondata
+nextstate
+mpopcondata
+nextstateafterresponse
+mpopcondata
+pauseforread
+prfalse
+prfree
+line
+print
+nspopprotocol
+error
+print
+errcode
+nsresult
+rv
+nsok
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+murl
+rv
+nssucceeded
+rv
+nscomptr
+nsimsgwindow
+msgwindow
+nscomptr
+nsiprompt
+dialog
+rv
+mailnewsurl
+getmsgwindow
+getteraddrefs
+msgwindow
+nssucceeded
+rv
+msgwindow
+rv
+msgwindow
+getpromptdialog
+getteraddrefs
+dialog
+nssucceeded
+rv
+nsxpidlstring
+alertstring
+mstringservice
+getstringbyid
+errcode
+gettercopies
+alertstring
+mpopcondata
+commandsucceeded
+dialog
+alert
+nsnull
+alertstring
+get
+nsxpidlstring
+serversaidprefix
+nscomptr
+nsimsgincomingserver
+server
+doqueryinterface
+mpopserver
+nsxpidlcstring
+hostname
+server
+rv
+server
+getrealhostname
+gettercopies
+hostname
+nssucceeded
+rv
+nsautostring
+hoststr
+hoststr
+assignwithconversion
+hostname
+get
+prunichar
+params
+hoststr
+get
+nscomptr
+nsistringbundle
+bundle
+rv
+mstringservice
+getbundle
+getteraddrefs
+bundle
+nssucceeded
+rv
+bundle
+formatstringfromid
+popserversaid
+params
+gettercopies
+serversaidprefix
+nsautostring
+message
+alertstring
+nsliteralstring
+serversaidprefix
+nsliteralstring
+nsconvertasciitoucs
+mcommandresponse
+dialog
+alert
+nsnull
+message
+get
+mpopcondata
+nextstate
+poperrordone
+mpopcondata
+pauseforread
+prfalse
+print
+nspopprotocol
+senddata
+nsiuri
+aurl
+databuffer
+prbool
+asuppresslogging
+print
+result
+nsmsgprotocol
+senddata
+aurl
+databuffer
+asuppresslogging
+prlog
+poplogmodule
+prlogalways
+send
+databuffer
+prlog
+poplogmodule
+prlogalways
+logging
+suppressed
+command
+it
+probably
+contained
+authentication
+information
+result
+mpopcondata
+pauseforread
+prtrue
+mpopcondata
+nextstate
+popwaitforresponse
+mpopcondata
+nextstate
+poperrordone
+print
+nspopprotocol
+sendauth
+mpopcondata
+commandsucceeded
+error
+popservererror
+nscautostring
+command
+auth
+crlf
+mpopcondata
+nextstateafterresponse
+popauthresponse
+senddata
+murl
+command
+get
+print
+nspopprotocol
+authresponse
+nsiinputstream
+inputstream
+pruint
+length
+line
+pruint
+ln
+nsresult
+rv
+testcapflag
+popauthmechundefined
+clearcapflag
+popauthmechundefined
+mpopserver
+setpopcapabilityflags
+mpopcondata
+capabilityflags
+mpopcondata
+commandsucceeded
+mpopcondata
+commandsucceeded
+prtrue
+mpopserver
+setpopcapabilityflags
+mpopcondata
+capabilityflags
+mpopcondata
+nextstate
+popprocessauth
+prbool
+pauseformoredata
+prfalse
+line
+mlinestreambuffer
+readnextline
+inputstream
+ln
+pauseformoredata
+pauseformoredata
+line
+mpopcondata
+pauseforread
+prtrue
+prfree
+line
+prlog
+poplogmodule
+prlogalways
+recv
+line
+plstrcmp
+line
+mpopcondata
+nextstate
+popprocessauth
+mpopcondata
+pauseforread
+prfalse
+plstrcasecmp
+line
+cram
+md
+nscomptr
+nsisignatureverifier
+verifier
+dogetservice
+signatureverifiercontractid
+rv
+nssucceeded
+rv
+setcapflag
+pophasauthcrammd
+mpopserver
+setpopcapabilityflags
+mpopcondata
+capabilityflags
+plstrcasecmp
+line
+login
+setcapflag
+pophasauthlogin
+mpopserver
+setpopcapabilityflags
+mpopcondata
+capabilityflags
+prfree
+line
+print
+nspopprotocol
+processauth
+musesecauth
+testcapflag
+pophasauthcrammd
+mpopcondata
+nextstate
+popsendusername
+error
+cannotprocesssecureauth
+testcapflag
+pophasauthlogin
+mpopcondata
+nextstate
+popauthlogin
+testcapflag
+pophasauthuser
+mpopcondata
+nextstate
+popsendusername
+error
+popservererror
+mpopcondata
+pauseforread
+prfalse
+print
+nspopprotocol
+authfallback
+mpopcondata
+commandsucceeded
+mpopcondata
+nextstate
+popsendpassword
+testcapflag
+pophasauthcrammd
+clearcapflag
+pophasauthcrammd
+testcapflag
+pophasauthlogin
+pophasauthuser
+error
+popusernamefailure
+mpopserver
+setpopcapabilityflags
+mpopcondata
+capabilityflags
+mpopcondata
+commandsucceeded
+prtrue
+mpopcondata
+nextstate
+popprocessauth
+testcapflag
+popauthmechundefined
+clearcapflag
+popauthmechundefined
+mpopserver
+setpopcapabilityflags
+mpopcondata
+capabilityflags
+mpopcondata
+pauseforread
+prfalse
+print
+nspopprotocol
+authlogin
+nscautostring
+command
+auth
+login
+crlf
+mpopcondata
+nextstateafterresponse
+popauthloginresponse
+mpopcondata
+pauseforread
+prtrue
+senddata
+murl
+command
+get
+print
+nspopprotocol
+authloginresponse
+mpopcondata
+commandsucceeded
+clearcapflag
+pophasauthlogin
+mpopcondata
+nextstate
+popprocessauth
+mpopcondata
+nextstate
+popsendusername
+mpopcondata
+pauseforread
+prfalse
+print
+nspopprotocol
+sendusername
+musername
+isempty
+error
+popusernameundefined
+nscautostring
+cmd
+musesecauth
+testcapflag
+pophasauthcrammd
+cmd
+auth
+cram
+md
+testcapflag
+pophasauthlogin
+basestr
+plbaseencode
+musername
+get
+musername
+length
+nsnull
+cmd
+basestr
+prfree
+basestr
+cmd
+user
+cmd
+musername
+cmd
+crlf
+mpopcondata
+nextstateafterresponse
+popauthfallback
+mpopcondata
+pauseforread
+prtrue
+senddata
+murl
+cmd
+get
+print
+nspopprotocol
+sendpassword
+nsxpidlcstring
+password
+prbool
+okayvalue
+prtrue
+nsresult
+rv
+getpassword
+gettercopies
+password
+okayvalue
+nssucceeded
+rv
+okayvalue
+mpopcondata
+nextstate
+poperrordone
+nserrorabort
+nsfailed
+rv
+password
+error
+poppasswordundefined
+nscautostring
+cmd
+musesecauth
+testcapflag
+pophasauthcrammd
+buffer
+digest
+digestlength
+decodedchallenge
+plbasedecode
+mcommandresponse
+get
+mcommandresponse
+length
+nsnull
+decodedchallenge
+rv
+msgcrammd
+decodedchallenge
+strlen
+decodedchallenge
+password
+get
+password
+length
+digest
+rv
+nserrorfailure
+nssucceeded
+rv
+digest
+nscautostring
+encodeddigest
+hexval
+pruint
+prsnprintf
+hexval
+xff
+digest
+encodeddigest
+append
+hexval
+prsnprintf
+buffer
+buffer
+musername
+get
+encodeddigest
+get
+basestr
+plbaseencode
+buffer
+strlen
+buffer
+nsnull
+cmd
+basestr
+prfree
+basestr
+nsfailed
+rv
+clearflag
+pophasauthcrammd
+testcapflag
+pophasauthlogin
+basestr
+plbaseencode
+password
+plstrlen
+password
+nsnull
+cmd
+basestr
+prfree
+basestr
+cmd
+pass
+cmd
+password
+cmd
+crlf
+mpopserver
+setpopcapabilityflags
+mpopcondata
+capabilityflags
+mpopcondata
+nextstateafterresponse
+mpopcondata
+geturl
+popsendgurl
+popsendstat
+mpopcondata
+pauseforread
+prtrue
+senddata
+murl
+cmd
+get
+prtrue
+print
+nspopprotocol
+sendstatorgurl
+prbool
+sendstat
+mpopcondata
+commandsucceeded
+error
+poppasswordfailure
+setflag
+poppasswordfailed
+mnsipopsink
+mnsipopsink
+setuserauthenticated
+prfalse
+mnsipopsink
+setmailaccounturl
+mnsipopsink
+setuserauthenticated
+prtrue
+nscautostring
+cmd
+sendstat
+cmd
+stat
+crlf
+mpopcondata
+nextstateafterresponse
+popgetstat
+cmd
+gurl
+crlf
+mpopcondata
+nextstateafterresponse
+popgurlresponse
+senddata
+murl
+cmd
+get
+print
+nspopprotocol
+sendstat
+sendstatorgurl
+prtrue
+print
+nspopprotocol
+getstat
+num
+newstr
+oldstr
+mpopcondata
+commandsucceeded
+error
+popstatfailure
+oldstr
+tonewcstring
+mcommandresponse
+num
+nscrt
+strtok
+oldstr
+newstr
+num
+mpopcondata
+numberofmessages
+atol
+num
+num
+nscrt
+strtok
+newstr
+newstr
+mcommandresponse
+newstr
+num
+mtotalfoldersize
+print
+atol
+num
+mpopcondata
+numberofmessages
+prfree
+oldstr
+mpopcondata
+reallynewmessages
+mpopcondata
+realnewcounter
+mtotaldownloadsize
+mpopcondata
+numberofmessages
+mpopcondata
+nextstate
+popsendquit
+plhashtableenumerateentries
+mpopcondata
+uidlinfo
+hash
+hashclearmapper
+nsnull
+mpopcondata
+onlycheckfornewmail
+mpopcondata
+leaveonserver
+mpopcondata
+sizelimit
+mpopcondata
+biffstate
+nsimsgfolder
+nsmsgbiffstatenewmail
+mpopcondata
+nextstate
+popsendquit
+mpopcondata
+onlycheckfornewmail
+nsresult
+rv
+nscomptr
+nsimsgwindow
+msgwindow
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+murl
+mailnewsurl
+rv
+mailnewsurl
+getmsgwindow
+getteraddrefs
+msgwindow
+rv
+mnsipopsink
+beginmaildelivery
+mpopcondata
+onlyuidl
+nsnull
+msgwindow
+mpopcondata
+msgdelstarted
+nsfailed
+rv
+rv
+nsmsgfolderbusy
+error
+popmessagefolderbusy
+error
+popmessagewriteerror
+mpopcondata
+msgdelstarted
+error
+popmessagewriteerror
+mpopcondata
+nextstate
+popsendlist
+print
+nspopprotocol
+sendgurl
+mpopcondata
+capabilityflags
+popcapabilityundefined
+testcapflag
+popgurlundefined
+pophasgurl
+sendstatorgurl
+prfalse
+print
+nspopprotocol
+gurlresponse
+clearcapflag
+popgurlundefined
+mpopcondata
+commandsucceeded
+setcapflag
+pophasgurl
+mnsipopsink
+mnsipopsink
+setmailaccounturl
+mcommandresponse
+get
+clearcapflag
+pophasgurl
+mpopserver
+setpopcapabilityflags
+mpopcondata
+capabilityflags
+mpopcondata
+nextstate
+popsendquit
+print
+nspopprotocol
+sendlist
+mpopcondata
+msginfo
+popmsginfo
+prcalloc
+popmsginfo
+mpopcondata
+numberofmessages
+klargenumberofmessages
+mpopcondata
+numberofmessages
+klargenumberofmessages
+mpopcondata
+msginfo
+mkoutofmemory
+mpopcondata
+nextstateafterresponse
+popgetlist
+senddata
+murl
+list
+crlf
+print
+nspopprotocol
+getlist
+nsiinputstream
+inputstream
+pruint
+length
+line
+pruint
+ln
+print
+msgnum
+mpopcondata
+commandsucceeded
+error
+poplistfailure
+prbool
+pauseformoredata
+prfalse
+line
+mlinestreambuffer
+readnextline
+inputstream
+ln
+pauseformoredata
+pauseformoredata
+line
+mpopcondata
+pauseforread
+prtrue
+prfree
+line
+ln
+prlog
+poplogmodule
+prlogalways
+recv
+line
+plstrcmp
+line
+mpopcondata
+nextstate
+popsenduidllist
+mpopcondata
+pauseforread
+prfalse
+prfree
+line
+token
+newstr
+token
+nscrt
+strtok
+line
+newstr
+token
+msgnum
+atol
+token
+msgnum
+mpopcondata
+numberofmessages
+msgnum
+token
+nscrt
+strtok
+newstr
+newstr
+token
+mpopcondata
+msginfo
+msgnum
+size
+atol
+token
+msgnum
+klargenumberofmessages
+msgnum
+mpopcondata
+numberofmessages
+mpopcondata
+msginfo
+popmsginfo
+prrealloc
+mpopcondata
+msginfo
+popmsginfo
+msgnum
+mpopcondata
+msginfo
+mpopcondata
+numberofmessages
+msgnum
+mkoutofmemory
+mpopcondata
+msginfo
+msgnum
+size
+mpopcondata
+msginfo
+msgnum
+uidl
+nsnull
+prfree
+line
+print
+nspopprotocol
+sendfakeuidltop
+cmd
+prsmprintf
+top
+ld
+crlf
+mpopcondata
+currentmsgtotop
+print
+status
+cmd
+mpopcondata
+nextstateafterresponse
+popgetfakeuidltop
+mpopcondata
+pauseforread
+prtrue
+status
+senddata
+murl
+cmd
+prfree
+cmd
+status
+print
+nspopprotocol
+startusetopforfakeuidl
+mpopcondata
+currentmsgtotop
+mpopcondata
+numberofmessages
+mpopcondata
+numberofmessagesnotseenbefore
+mpopcondata
+foundnewmessageboundary
+prfalse
+mpopcondata
+deleteservermessageduringtoptraversal
+prfalse
+plhashtableenumerateentries
+mpopcondata
+uidlinfo
+hash
+netpopcheckforhashmessagesmarkeddelete
+mpopcondata
+sendfakeuidltop
+print
+nspopprotocol
+getfakeuidltop
+nsiinputstream
+inputstream
+pruint
+length
+line
+newstr
+pruint
+ln
+mpopcondata
+commandsucceeded
+nsresult
+rv
+mpopcondata
+nextstate
+poperrordone
+mpopcondata
+pauseforread
+prfalse
+nscautostring
+hostname
+murl
+gethost
+hostname
+nsconvertutftoucs
+hostnameunicode
+hostname
+prunichar
+formatstrings
+hostnameunicode
+get
+nscomptr
+nsistringbundle
+bundle
+rv
+mstringservice
+getbundle
+getteraddrefs
+bundle
+nsensuresuccess
+rv
+nsxpidlstring
+statusstring
+rv
+bundle
+formatstringfromid
+popserverdoesnotsupportuidletc
+formatstrings
+gettercopies
+statusstring
+nsensuresuccess
+rv
+updatestatuswithstring
+statusstring
+prbool
+pauseformoredata
+prfalse
+line
+mlinestreambuffer
+readnextline
+inputstream
+ln
+pauseformoredata
+pauseformoredata
+line
+mpopcondata
+pauseforread
+prtrue
+prfree
+line
+prlog
+poplogmodule
+prlogalways
+recv
+line
+plstrcmp
+line
+mpopcondata
+currentmsgtotop
+mpopcondata
+currentmsgtotop
+mpopcondata
+foundnewmessageboundary
+mpopcondata
+deleteservermessageduringtoptraversal
+mpopcondata
+onlycheckfornewmail
+mpopcondata
+biffstate
+nsimsgfolder
+nsmsgbiffstatenewmail
+mpopcondata
+nextstate
+popsendquit
+mpopcondata
+nextstate
+popgetmsg
+mpopcondata
+pauseforread
+prfalse
+mpopcondata
+currentmsgtotop
+mpopcondata
+foundnewmessageboundary
+plhashtableenumerateentries
+mpopcondata
+uidlinfo
+hash
+hashclearmapper
+nsnull
+mpopcondata
+nextstate
+popsendfakeuidltop
+mpopcondata
+pauseforread
+prfalse
+firsttoken
+nscrt
+strtok
+line
+newstr
+state
+firsttoken
+plstrcasecmp
+firsttoken
+message
+id
+messageidtoken
+nscrt
+strtok
+newstr
+newstr
+messageidtoken
+state
+nsptrtoint
+plhashtablelookup
+mpopcondata
+uidlinfo
+hash
+messageidtoken
+mpopcondata
+onlyuidl
+messageidtoken
+state
+mpopcondata
+numberofmessagesnotseenbefore
+mpopcondata
+msginfo
+mpopcondata
+currentmsgtotop
+uidl
+plstrdup
+messageidtoken
+mpopcondata
+msginfo
+mpopcondata
+currentmsgtotop
+uidl
+prfree
+line
+mkoutofmemory
+mpopcondata
+onlyuidl
+messageidtoken
+plstrcmp
+mpopcondata
+onlyuidl
+messageidtoken
+mpopcondata
+lastaccessedmsg
+mpopcondata
+currentmsgtotop
+mpopcondata
+foundnewmessageboundary
+prtrue
+mpopcondata
+msginfo
+mpopcondata
+currentmsgtotop
+uidl
+plstrdup
+messageidtoken
+mpopcondata
+msginfo
+mpopcondata
+currentmsgtotop
+uidl
+prfree
+line
+mkoutofmemory
+mpopcondata
+onlyuidl
+mpopcondata
+numberofmessagesnotseenbefore
+mpopcondata
+lastaccessedmsg
+mpopcondata
+currentmsgtotop
+mpopcondata
+foundnewmessageboundary
+prtrue
+mpopcondata
+nextstate
+popsendquit
+mpopcondata
+pauseforread
+prfalse
+prfree
+line
+print
+nspopprotocol
+sendxtndxlstmsgid
+testcapflag
+pophasxtndxlst
+popxtndxlstundefined
+mpopcondata
+nextstateafterresponse
+popgetxtndxlstmsgid
+mpopcondata
+pauseforread
+prtrue
+senddata
+murl
+xtnd
+xlst
+message
+id
+crlf
+startusetopforfakeuidl
+print
+nspopprotocol
+getxtndxlstmsgid
+nsiinputstream
+inputstream
+pruint
+length
+line
+pruint
+ln
+print
+msgnum
+clearcapflag
+popxtndxlstundefined
+mpopcondata
+commandsucceeded
+clearcapflag
+pophasxtndxlst
+mpopserver
+setpopcapabilityflags
+mpopcondata
+capabilityflags
+mpopcondata
+nextstate
+popstartusetopforfakeuidl
+mpopcondata
+pauseforread
+prfalse
+setcapflag
+pophasxtndxlst
+mpopserver
+setpopcapabilityflags
+mpopcondata
+capabilityflags
+prbool
+pauseformoredata
+prfalse
+line
+mlinestreambuffer
+readnextline
+inputstream
+ln
+pauseformoredata
+pauseformoredata
+line
+mpopcondata
+pauseforread
+prtrue
+prfree
+line
+ln
+prlog
+poplogmodule
+prlogalways
+recv
+line
+plstrcmp
+line
+mpopcondata
+nextstate
+popgetmsg
+mpopcondata
+pauseforread
+prfalse
+prfree
+line
+newstr
+token
+nscrt
+strtok
+line
+newstr
+token
+msgnum
+atol
+token
+msgnum
+mpopcondata
+numberofmessages
+msgnum
+uidl
+nscrt
+strtok
+newstr
+newstr
+uidl
+uidl
+mpopcondata
+msginfo
+msgnum
+uidl
+plstrdup
+uidl
+mpopcondata
+msginfo
+msgnum
+uidl
+prfree
+line
+mkoutofmemory
+prfree
+line
+print
+nspopprotocol
+senduidllist
+testcapflag
+pophasuidl
+popuidlundefined
+mpopcondata
+nextstateafterresponse
+popgetuidllist
+mpopcondata
+pauseforread
+prtrue
+senddata
+murl
+uidl
+crlf
+sendxtndxlstmsgid
+print
+nspopprotocol
+getuidllist
+nsiinputstream
+inputstream
+pruint
+length
+line
+pruint
+ln
+print
+msgnum
+clearcapflag
+popuidlundefined
+mpopcondata
+commandsucceeded
+mpopcondata
+nextstate
+popsendxtndxlstmsgid
+mpopcondata
+pauseforread
+prfalse
+clearcapflag
+pophasuidl
+mpopserver
+setpopcapabilityflags
+mpopcondata
+capabilityflags
+setcapflag
+pophasuidl
+mpopserver
+setpopcapabilityflags
+mpopcondata
+capabilityflags
+prbool
+pauseformoredata
+prfalse
+line
+mlinestreambuffer
+readnextline
+inputstream
+ln
+pauseformoredata
+pauseformoredata
+line
+prfree
+line
+mpopcondata
+pauseforread
+prtrue
+ln
+prlog
+poplogmodule
+prlogalways
+recv
+line
+plstrcmp
+line
+mpopcondata
+nextstate
+popgetmsg
+mpopcondata
+pauseforread
+prfalse
+prfree
+line
+newstr
+token
+nscrt
+strtok
+line
+newstr
+token
+msgnum
+atol
+token
+msgnum
+mpopcondata
+numberofmessages
+msgnum
+uidl
+nscrt
+strtok
+newstr
+newstr
+uidl
+uidl
+mpopcondata
+msginfo
+msgnum
+uidl
+plstrdup
+uidl
+mpopcondata
+msginfo
+msgnum
+uidl
+prfree
+line
+mkoutofmemory
+prfree
+line
+print
+nspopprotocol
+getmsg
+prbool
+prefbool
+prfalse
+mpopcondata
+lastaccessedmsg
+mpopcondata
+numberofmessages
+mpopcondata
+msgdelstarted
+mnsipopsink
+endmaildelivery
+mpopcondata
+nextstate
+popsendquit
+mtotaldownloadsize
+mpopcondata
+reallynewmessages
+mpopcondata
+realnewcounter
+mpopcondata
+msginfo
+mtotaldownloadsize
+mpopcondata
+numberofmessages
+mpopcondata
+onlyuidl
+mpopcondata
+msginfo
+uidl
+plstrcmp
+mpopcondata
+msginfo
+uidl
+mpopcondata
+onlyuidl
+mtotaldownloadsize
+mpopcondata
+msginfo
+size
+mpopcondata
+reallynewmessages
+mpopcondata
+realnewcounter
+mpopcondata
+msginfo
+uidl
+nsptrtoint
+plhashtablelookup
+mpopcondata
+uidlinfo
+hash
+mpopcondata
+msginfo
+uidl
+keep
+mpopcondata
+leaveonserver
+mpopcondata
+newuidl
+mpopcondata
+newuidl
+plnewhashtable
+plhashstring
+plcomparestrings
+plcomparevalues
+nsnull
+nsnull
+mpopcondata
+newuidl
+mkoutofmemory
+deletechar
+puthash
+mpopcondata
+uidlinfo
+mpopcondata
+newuidl
+mpopcondata
+msginfo
+uidl
+deletechar
+puthash
+mpopcondata
+uidlinfo
+mpopcondata
+uidlinfo
+hash
+mpopcondata
+msginfo
+uidl
+deletechar
+keep
+deletechar
+toobig
+mtotaldownloadsize
+mpopcondata
+msginfo
+size
+mpopcondata
+reallynewmessages
+mtotaldownloadsize
+mtotalfoldersize
+mpopcondata
+onlycheckfornewmail
+mtotaldownloadsize
+mpopcondata
+biffstate
+nsimsgfolder
+nsmsgbiffstatenewmail
+mpopcondata
+nextstate
+popsendquit
+mtotaldownloadsize
+nsresult
+rv
+print
+mailboxspaceleft
+llzero
+nscomptr
+nsimsgfolder
+folder
+nscomptr
+nsifilespec
+path
+nsensuretrue
+mnsipopsink
+nserrorunexpected
+rv
+mnsipopsink
+getfolder
+getteraddrefs
+folder
+nsfailed
+rv
+rv
+rv
+folder
+getpath
+getteraddrefs
+path
+nsfailed
+rv
+rv
+rv
+path
+getdiskspaceavailable
+mailboxspaceleft
+nsfailed
+rv
+ifdef
+debug
+printf
+call
+to
+getdiskspaceavailable
+failed
+endif
+ifdef
+debug
+printf
+getdiskspaceavailable
+returned
+bytes
+mailboxspaceleft
+endif
+print
+llresult
+print
+llextrasafetyspace
+print
+lltotaldownloadsize
+llil
+llextrasafetyspace
+extrasafetyspace
+llil
+lltotaldownloadsize
+mtotaldownloadsize
+lladd
+llresult
+lltotaldownloadsize
+llextrasafetyspace
+llcmp
+llresult
+mailboxspaceleft
+ifdef
+debug
+printf
+not
+enough
+disk
+space
+raising
+error
+endif
+error
+mkpopoutofdiskspace
+mpopserver
+getauthlogin
+prefbool
+prefbool
+testcapflag
+pophasxsender
+popxsenderundefined
+mpopcondata
+nextstate
+popsendxsender
+mpopcondata
+nextstate
+popsendretr
+mpopcondata
+truncatingcurmsg
+prfalse
+mpopcondata
+pauseforread
+prfalse
+mpopcondata
+msginfo
+popmsginfo
+info
+mpopcondata
+msginfo
+mpopcondata
+lastaccessedmsg
+mpopcondata
+onlyuidl
+info
+uidl
+plstrcmp
+info
+uidl
+mpopcondata
+onlyuidl
+mpopcondata
+nextstate
+popgetmsg
+mpopcondata
+nextstate
+popsendretr
+mpopcondata
+newuidl
+mpopcondata
+newuidl
+plnewhashtable
+plhashstring
+plcomparestrings
+plcomparevalues
+nsnull
+nsnull
+mpopcondata
+newuidl
+mkoutofmemory
+info
+uidl
+nsptrtoint
+plhashtablelookup
+mpopcondata
+uidlinfo
+hash
+info
+uidl
+mpopcondata
+truncatingcurmsg
+prfalse
+deletechar
+mpopcondata
+nextstate
+popsenddele
+keep
+mpopcondata
+nextstate
+popgetmsg
+toobig
+mpopcondata
+sizelimit
+info
+size
+mpopcondata
+sizelimit
+testcapflag
+poptopundefined
+pophastop
+mpopcondata
+onlyuidl
+mpopcondata
+truncatingcurmsg
+prtrue
+mpopcondata
+nextstate
+popsendtop
+puthash
+mpopcondata
+uidlinfo
+mpopcondata
+newuidl
+info
+uidl
+toobig
+toobig
+mpopcondata
+sizelimit
+info
+size
+mpopcondata
+sizelimit
+plhashtableremove
+mpopcondata
+uidlinfo
+hash
+info
+uidl
+mpopcondata
+truncatingcurmsg
+prtrue
+mpopcondata
+nextstate
+popgetmsg
+puthash
+mpopcondata
+uidlinfo
+mpopcondata
+newuidl
+info
+uidl
+toobig
+mpopcondata
+nextstate
+popsenddele
+mpopcondata
+nextstate
+popgetmsg
+mpopcondata
+nextstate
+popsendtop
+info
+uidl
+mpopcondata
+onlyuidl
+mpopcondata
+truncatingcurmsg
+puthash
+mpopcondata
+uidlinfo
+mpopcondata
+newuidl
+info
+uidl
+keep
+mpopcondata
+nextstate
+popgetmsg
+mpopcondata
+lastaccessedmsg
+print
+nspopprotocol
+sendtop
+cmd
+prsmprintf
+top
+ld
+crlf
+mpopcondata
+lastaccessedmsg
+print
+status
+cmd
+mpopcondata
+nextstateafterresponse
+poptopresponse
+mpopcondata
+curmsgsize
+mbytesinmsgreceived
+status
+senddata
+murl
+cmd
+prfree
+cmd
+status
+print
+nspopprotocol
+sendxsender
+cmd
+prsmprintf
+xsender
+ld
+crlf
+mpopcondata
+lastaccessedmsg
+print
+status
+cmd
+mpopcondata
+nextstateafterresponse
+popxsenderresponse
+status
+senddata
+murl
+cmd
+prfree
+cmd
+status
+print
+nspopprotocol
+xsenderresponse
+mpopcondata
+seenfromheader
+prfalse
+msenderinfo
+clearcapflag
+popxsenderundefined
+mpopcondata
+commandsucceeded
+mcommandresponse
+length
+msenderinfo
+mcommandresponse
+setcapflag
+pophasxsender
+clearcapflag
+pophasxsender
+mpopserver
+setpopcapabilityflags
+mpopcondata
+capabilityflags
+mpopcondata
+truncatingcurmsg
+mpopcondata
+nextstate
+popsendtop
+mpopcondata
+nextstate
+popsendretr
+print
+nspopprotocol
+sendretr
+cmd
+prsmprintf
+retr
+ld
+crlf
+mpopcondata
+lastaccessedmsg
+print
+status
+cmd
+mpopcondata
+nextstateafterresponse
+popretrresponse
+mpopcondata
+curmsgsize
+mbytesinmsgreceived
+mpopcondata
+onlyuidl
+prassert
+mpopcondata
+graphprogressbytesp
+updateprogresspercent
+mtotaldownloadsize
+mpopcondata
+graphprogressbytesp
+prtrue
+nsresult
+rv
+nsautostring
+realnewstring
+realnewstring
+appendint
+mpopcondata
+realnewcounter
+nsautostring
+reallynewmessages
+reallynewmessages
+appendint
+mpopcondata
+reallynewmessages
+nscomptr
+nsistringbundle
+bundle
+rv
+mstringservice
+getbundle
+getteraddrefs
+bundle
+nsassertion
+nssucceeded
+rv
+couldn
+get
+bundle
+bundle
+prunichar
+formatstrings
+realnewstring
+get
+reallynewmessages
+get
+nsxpidlstring
+finalstring
+rv
+bundle
+formatstringfromid
+localstatusreceivingmessageof
+formatstrings
+gettercopies
+finalstring
+nsassertion
+nssucceeded
+rv
+couldn
+format
+mstatusfeedback
+mstatusfeedback
+showstatusstring
+finalstring
+status
+senddata
+murl
+cmd
+prfree
+cmd
+status
+print
+nspopprotocol
+retrresponse
+nsiinputstream
+inputstream
+pruint
+length
+pruint
+buffersize
+print
+flags
+uidl
+nsresult
+rv
+print
+oldbytesreceived
+mtotalbytesreceived
+endif
+pruint
+status
+mpopcondata
+curmsgsize
+mpopcondata
+commandsucceeded
+error
+popretrfailure
+mpopcondata
+truncatingcurmsg
+mpopcondata
+curmsgsize
+mpopcondata
+sizelimit
+flags
+msgflagpartial
+newstr
+oldstr
+tonewcstring
+mcommandresponse
+num
+nscrt
+strtok
+oldstr
+newstr
+num
+mpopcondata
+curmsgsize
+atol
+num
+mcommandresponse
+newstr
+prfree
+oldstr
+msenderinfo
+isempty
+flags
+msgflagsenderauthed
+mpopcondata
+curmsgsize
+mpopcondata
+msginfo
+mpopcondata
+curmsgsize
+mpopcondata
+msginfo
+mpopcondata
+lastaccessedmsg
+size
+mpopcondata
+curmsgsize
+mpopcondata
+msginfo
+mpopcondata
+msginfo
+mpopcondata
+lastaccessedmsg
+uidl
+uidl
+mpopcondata
+msginfo
+mpopcondata
+lastaccessedmsg
+uidl
+mpopcondata
+parsedbytes
+mpopcondata
+popsize
+mpopcondata
+curmsgsize
+mpopcondata
+assumedend
+prfalse
+mpopserver
+getdotfix
+mpopcondata
+dotfix
+prlog
+poplogmodule
+prlogalways
+opening
+message
+stream
+msgincorporatebegin
+mpopcondata
+realnewcounter
+rv
+mnsipopsink
+incorporatebegin
+uidl
+murl
+flags
+mpopcondata
+msgclosure
+prlog
+poplogmodule
+prlogalways
+done
+opening
+message
+stream
+mpopcondata
+msgclosure
+nsfailed
+rv
+error
+popmessagewriteerror
+mpopcondata
+pauseforread
+prtrue
+prbool
+pauseformoredata
+prfalse
+line
+mlinestreambuffer
+readnextline
+inputstream
+status
+pauseformoredata
+prlog
+poplogmodule
+prlogalways
+recv
+line
+buffersize
+status
+status
+line
+mpopcondata
+dotfix
+mpopcondata
+assumedend
+mpopcondata
+msgclosure
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+murl
+rv
+nscomptr
+nsimsgwindow
+msgwindow
+nssucceeded
+rv
+rv
+mailnewsurl
+getmsgwindow
+getteraddrefs
+msgwindow
+rv
+mnsipopsink
+incorporatecomplete
+msgwindow
+nsfailed
+rv
+error
+popmessagewriteerror
+mpopcondata
+msgclosure
+buffersize
+mpopcondata
+pauseforread
+prtrue
+mpopcondata
+msgclosure
+status
+buffersize
+print
+res
+bufferinput
+line
+buffersize
+res
+error
+popmessagewriteerror
+res
+bufferinput
+msglinebreak
+msglinebreaklen
+res
+error
+popmessagewriteerror
+mpopcondata
+parsedbytes
+buffersize
+prfree
+line
+line
+mlinestreambuffer
+readnextline
+inputstream
+buffersize
+pauseformoredata
+prlog
+poplogmodule
+prlogalways
+recv
+line
+status
+buffersize
+line
+buffersize
+status
+print
+mbytesinmsgreceived
+buffersize
+mpopcondata
+curmsgsize
+buffersize
+mpopcondata
+curmsgsize
+mbytesinmsgreceived
+mbytesinmsgreceived
+buffersize
+mtotalbytesreceived
+buffersize
+pauseformoredata
+mpopcondata
+dotfix
+mpopcondata
+assumedend
+mpopcondata
+msgclosure
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+murl
+rv
+nscomptr
+nsimsgwindow
+msgwindow
+nssucceeded
+rv
+rv
+mailnewsurl
+getmsgwindow
+getteraddrefs
+msgwindow
+rv
+mnsipopsink
+incorporatecomplete
+msgwindow
+nsfailed
+rv
+error
+popmessagewriteerror
+mpopcondata
+msgclosure
+mpopcondata
+msgclosure
+mpopcondata
+pauseforread
+prfalse
+mpopcondata
+truncatingcurmsg
+mpopcondata
+leaveonserver
+mpopcondata
+lastaccessedmsg
+mpopcondata
+nextstate
+popgetmsg
+mpopcondata
+nextstate
+popsenddele
+mbytesinmsgreceived
+mpopcondata
+curmsgsize
+mtotalbytesreceived
+mpopcondata
+curmsgsize
+mbytesinmsgreceived
+mtotaldownloadsize
+updateprogresspercent
+mtotalbytesreceived
+mtotaldownloadsize
+prfree
+line
+print
+nspopprotocol
+topresponse
+nsiinputstream
+inputstream
+pruint
+length
+testcapflag
+poptopundefined
+clearcapflag
+poptopundefined
+mpopcondata
+commandsucceeded
+setcapflag
+pophastop
+clearcapflag
+pophastop
+mpopserver
+setpopcapabilityflags
+mpopcondata
+capabilityflags
+mpopcondata
+curmsgsize
+mpopcondata
+commandsucceeded
+prbool
+prefbool
+prfalse
+mpopcondata
+truncatingcurmsg
+prfalse
+prunichar
+statustemplate
+nsnull
+mstringservice
+getstringbyid
+popserverdoesnotsupportthetopcommand
+statustemplate
+statustemplate
+nscautostring
+hostname
+prunichar
+statusstring
+nsnull
+murl
+gethost
+hostname
+statusstring
+nstextformatter
+smprintf
+statustemplate
+hostname
+get
+updatestatuswithstring
+statusstring
+nstextformatter
+smprintffree
+statusstring
+nscrt
+free
+statustemplate
+mpopserver
+getauthlogin
+prefbool
+prefbool
+testcapflag
+popxsenderundefined
+pophasxsender
+mpopcondata
+nextstate
+popsendxsender
+mpopcondata
+nextstate
+popsendretr
+retrresponse
+inputstream
+length
+print
+nspopprotocol
+handleline
+line
+pruint
+linelength
+nsresult
+rv
+nsassertion
+mpopcondata
+msgclosure
+mpopcondata
+msgclosure
+is
+in
+nspopprotocol
+handleline
+mpopcondata
+msgclosure
+msenderinfo
+isempty
+mpopcondata
+seenfromheader
+linelength
+plstrncasecmp
+from
+line
+ch
+line
+linelength
+line
+linelength
+mpopcondata
+seenfromheader
+prtrue
+plstrstr
+line
+msenderinfo
+get
+mnsipopsink
+setsenderauthedflag
+mpopcondata
+msgclosure
+prfalse
+line
+linelength
+ch
+line
+line
+nscrt
+cr
+line
+nscrt
+lf
+mpopcondata
+assumedend
+prtrue
+mpopcondata
+dotfix
+mpopcondata
+truncatingcurmsg
+mpopcondata
+parsedbytes
+mpopcondata
+popsize
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+murl
+rv
+nscomptr
+nsimsgwindow
+msgwindow
+nssucceeded
+rv
+rv
+mailnewsurl
+getmsgwindow
+getteraddrefs
+msgwindow
+rv
+mnsipopsink
+incorporatecomplete
+msgwindow
+nsfailed
+rv
+error
+popmessagewriteerror
+mpopcondata
+msgclosure
+linelength
+line
+line
+pruint
+linelength
+line
+line
+line
+linelength
+rv
+mnsipopsink
+incorporatewrite
+line
+linelength
+nsfailed
+rv
+error
+popmessagewriteerror
+print
+nspopprotocol
+senddele
+mpopcondata
+lastaccessedmsg
+cmd
+prsmprintf
+dele
+ld
+crlf
+mpopcondata
+lastaccessedmsg
+print
+status
+cmd
+mpopcondata
+nextstateafterresponse
+popdeleresponse
+status
+senddata
+murl
+cmd
+prfree
+cmd
+status
+print
+nspopprotocol
+deleresponse
+popuidlhost
+host
+host
+mpopcondata
+uidlinfo
+mpopcondata
+commandsucceeded
+error
+popdelefailure
+host
+mpopcondata
+msginfo
+mpopcondata
+msginfo
+mpopcondata
+lastaccessedmsg
+uidl
+mpopcondata
+newuidl
+mpopcondata
+leaveonserver
+plhashtableremove
+mpopcondata
+newuidl
+mpopcondata
+msginfo
+mpopcondata
+lastaccessedmsg
+uidl
+plhashtableadd
+mpopcondata
+newuidl
+mpopcondata
+msginfo
+mpopcondata
+lastaccessedmsg
+uidl
+deletechar
+plhashtableremove
+host
+hash
+mpopcondata
+msginfo
+mpopcondata
+lastaccessedmsg
+uidl
+mpopcondata
+nextstate
+popgetmsg
+mpopcondata
+pauseforread
+prfalse
+print
+nspopprotocol
+commitstate
+prbool
+removelastentry
+removelastentry
+mpopcondata
+msginfo
+mpopcondata
+lastaccessedmsg
+mpopcondata
+numberofmessages
+popmsginfo
+info
+mpopcondata
+msginfo
+mpopcondata
+lastaccessedmsg
+info
+info
+uidl
+mpopcondata
+onlyuidl
+mpopcondata
+newuidl
+mpopcondata
+newuidl
+nentries
+prbool
+val
+plhashtableremove
+mpopcondata
+newuidl
+info
+uidl
+prassert
+val
+mpopcondata
+newuidl
+plhashtabledestroy
+mpopcondata
+uidlinfo
+hash
+mpopcondata
+uidlinfo
+hash
+mpopcondata
+newuidl
+mpopcondata
+newuidl
+mpopcondata
+onlycheckfornewmail
+nsresult
+rv
+nscomptr
+nsifilespec
+maildirectory
+nscomptr
+nsimsgincomingserver
+server
+doqueryinterface
+mpopserver
+rv
+nsfailed
+rv
+rv
+server
+getlocalpath
+getteraddrefs
+maildirectory
+nsfailed
+rv
+netpopwritestate
+mpopcondata
+uidlinfo
+maildirectory
+nsresult
+nspopprotocol
+processprotocolstate
+nsiuri
+url
+nsiinputstream
+ainputstream
+pruint
+sourceoffset
+pruint
+alength
+print
+status
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+murl
+prlog
+poplogmodule
+prlogalways
+entering
+netprocesspop
+alength
+mpopcondata
+pauseforread
+prfalse
+musername
+isempty
+error
+popusernameundefined
+mpopcondata
+pauseforread
+prlog
+poplogmodule
+prlogalways
+pop
+entering
+state
+mpopcondata
+nextstate
+mpopcondata
+nextstate
+popreadpassword
+nsxpidlcstring
+password
+prbool
+okayvalue
+getpassword
+gettercopies
+password
+okayvalue
+pwd
+password
+password
+musername
+isempty
+status
+mkpoppasswordundefined
+mpopcondata
+biffstate
+nsimsgfolder
+nsmsgbiffstateunknown
+mnsipopsink
+setbiffstateandupdatefe
+mpopcondata
+biffstate
+mpopcondata
+nextstate
+popfree
+mpopcondata
+pauseforread
+prfalse
+musername
+isempty
+pwd
+mpopcondata
+nextstate
+poperrordone
+mpopcondata
+pauseforread
+prfalse
+prbool
+prefbool
+prfalse
+mpopcondata
+pauseforread
+prfalse
+mpopserver
+getauthlogin
+prefbool
+prefbool
+testcapflag
+popauthmechundefined
+mpopcondata
+nextstate
+popsendauth
+mpopcondata
+nextstate
+popprocessauth
+mpopcondata
+nextstate
+popsendusername
+popstartconnect
+mpopcondata
+nextstate
+popfinishconnect
+mpopcondata
+pauseforread
+prfalse
+popfinishconnect
+mpopcondata
+pauseforread
+prfalse
+mpopcondata
+nextstate
+popwaitforstartofconnectionresponse
+popwaitforresponse
+status
+waitforresponse
+ainputstream
+alength
+popwaitforstartofconnectionresponse
+status
+waitforstartofconnectionresponse
+ainputstream
+alength
+status
+prbool
+prefbool
+prfalse
+mpopserver
+getauthlogin
+prefbool
+prefbool
+testcapflag
+popauthmechundefined
+mpopcondata
+nextstate
+popsendauth
+mpopcondata
+nextstate
+popprocessauth
+mpopcondata
+nextstate
+popsendusername
+popsendauth
+status
+sendauth
+popauthresponse
+status
+authresponse
+ainputstream
+alength
+popprocessauth
+status
+processauth
+popauthfallback
+status
+authfallback
+popauthlogin
+status
+authlogin
+popauthloginresponse
+status
+authloginresponse
+popsendusername
+updatestatus
+popconnecthostcontactedsendinglogininformation
+status
+sendusername
+popsendpassword
+status
+sendpassword
+popsendgurl
+status
+sendgurl
+popgurlresponse
+status
+gurlresponse
+popsendstat
+status
+sendstat
+popgetstat
+status
+getstat
+popsendlist
+status
+sendlist
+popgetlist
+status
+getlist
+ainputstream
+alength
+popsenduidllist
+status
+senduidllist
+popgetuidllist
+status
+getuidllist
+ainputstream
+alength
+popsendxtndxlstmsgid
+status
+sendxtndxlstmsgid
+popgetxtndxlstmsgid
+status
+getxtndxlstmsgid
+ainputstream
+alength
+popstartusetopforfakeuidl
+status
+startusetopforfakeuidl
+popsendfakeuidltop
+status
+sendfakeuidltop
+popgetfakeuidltop
+status
+getfakeuidltop
+ainputstream
+alength
+popgetmsg
+status
+getmsg
+popsendtop
+status
+sendtop
+poptopresponse
+status
+topresponse
+ainputstream
+alength
+popsendxsender
+status
+sendxsender
+popxsenderresponse
+status
+xsenderresponse
+popsendretr
+status
+sendretr
+popretrresponse
+status
+retrresponse
+ainputstream
+alength
+popsenddele
+status
+senddele
+popdeleresponse
+status
+deleresponse
+popsendquit
+mpopcondata
+onlyuidl
+mpopcondata
+onlycheckfornewmail
+mnsipopsink
+setbiffstateandupdatefe
+mpopcondata
+biffstate
+mpopcondata
+reallynewmessages
+mtotaldownloadsize
+updatestatus
+popnomessages
+prunichar
+statustemplate
+nsnull
+mstringservice
+getstringbyid
+popdownloadcount
+statustemplate
+statustemplate
+prunichar
+statusstring
+nstextformatter
+smprintf
+statustemplate
+mpopcondata
+realnewcounter
+mpopcondata
+reallynewmessages
+updatestatuswithstring
+statusstring
+nstextformatter
+smprintffree
+statusstring
+nscrt
+free
+statustemplate
+mnsipopsink
+setbiffstateandupdatefe
+nsimsgfolder
+nsmsgbiffstatenewmail
+mpopcondata
+reallynewmessages
+status
+senddata
+mailnewsurl
+quit
+crlf
+mpopcondata
+nextstate
+popwaitforresponse
+mpopcondata
+nextstateafterresponse
+popquitresponse
+popquitresponse
+mpopcondata
+commandsucceeded
+mpopcondata
+leaveonserver
+mpopcondata
+newuidl
+plhashtableenumerateentries
+mpopcondata
+newuidl
+netpopremovemessagesmarkeddelete
+mpopcondata
+mpopcondata
+nextstate
+popdone
+mpopcondata
+nextstate
+poperrordone
+popdone
+commitstate
+prfalse
+mailnewsurl
+mailnewsurl
+seturlstate
+prfalse
+nsok
+mpopcondata
+nextstate
+popfree
+popinterrupted
+senddata
+mailnewsurl
+quit
+crlf
+mpopcondata
+pauseforread
+prfalse
+mpopcondata
+nextstate
+poperrordone
+poperrordone
+commitstate
+prtrue
+mpopcondata
+msgclosure
+mnsipopsink
+incorporateabort
+mpopcondata
+onlyuidl
+nsnull
+mpopcondata
+msgclosure
+mnsipopsink
+abortmaildelivery
+mpopcondata
+msgdelstarted
+prunichar
+statustemplate
+nsnull
+mstringservice
+getstringbyid
+popdownloadcount
+statustemplate
+statustemplate
+prunichar
+statusstring
+nstextformatter
+smprintf
+statustemplate
+mpopcondata
+realnewcounter
+mpopcondata
+reallynewmessages
+updatestatuswithstring
+statusstring
+nstextformatter
+smprintffree
+statusstring
+nscrt
+free
+statustemplate
+prassert
+testflag
+poppasswordfailed
+mnsipopsink
+abortmaildelivery
+testflag
+poppasswordfailed
+mpopcondata
+nextstate
+popreadpassword
+mpopcondata
+commandsucceeded
+prtrue
+status
+mpopcondata
+nextstate
+popfree
+mailnewsurl
+mailnewsurl
+seturlstate
+prfalse
+nserrorfailure
+mpopcondata
+pauseforread
+prfalse
+popfree
+updateprogresspercent
+mnsipopsink
+nscomptr
+nsimsgincomingserver
+server
+doqueryinterface
+mpopserver
+server
+server
+setserverbusy
+prfalse
+closesocket
+nsok
+prassert
+status
+mpopcondata
+nextstate
+popfree
+mpopcondata
+pauseforread
+prfalse
+mpopcondata
+nextstate
+poperrordone
+nsok
+nsresult
+nspopprotocol
+closesocket
+nsresult
+rv
+nsmsgprotocol
+closesocket
+murl
+nsnull
+rv
\ No newline at end of file
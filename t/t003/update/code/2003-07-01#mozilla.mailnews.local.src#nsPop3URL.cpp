@@ -0,0 +1,73 @@
+msgcore
+nsiurl
+nspopurl
+nspopprotocol
+nsstring
+nsreadableutils
+prmem
+plstr
+prprf
+nscrt
+nspopurl
+nspopurl
+nsmsgmailnewsurl
+nspopurl
+nspopurl
+nsimplisupportsinherited
+nspopurl
+nsmsgmailnewsurl
+nsipopurl
+nsresult
+nspopurl
+setpopsink
+nsipopsink
+apopsink
+apopsink
+mpopsink
+apopsink
+nsok
+nsresult
+nspopurl
+getpopsink
+nsipopsink
+apopsink
+apopsink
+apopsink
+mpopsink
+nsifaddref
+apopsink
+nsok
+nsimethodimp
+nspopurl
+getmessageuri
+amessageuri
+amessageuri
+mmessageuri
+isempty
+nserrornullpointer
+amessageuri
+tonewcstring
+mmessageuri
+nsok
+nsimethodimp
+nspopurl
+setmessageuri
+amessageuri
+amessageuri
+mmessageuri
+amessageuri
+nsok
+nsresult
+nspopurl
+parseurl
+nsstring
+aspec
+nsassertion
+we
+shouldn
+need
+to
+call
+method
+anymore
+nsok
\ No newline at end of file
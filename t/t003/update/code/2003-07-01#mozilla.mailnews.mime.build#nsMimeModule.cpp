@@ -0,0 +1,71 @@
+nsimodule
+nsigenericfactory
+nsmsgmimecid
+nscomptr
+nsstreamconverter
+nsmimeobjectclassaccess
+nsmimeconverter
+nsmsgheaderparser
+nsmimeheaders
+nsgenericfactoryconstructor
+nsmimeobjectclassaccess
+nsgenericfactoryconstructor
+nsmimeconverter
+nsgenericfactoryconstructor
+nsstreamconverter
+nsgenericfactoryconstructor
+nsmsgheaderparser
+nsgenericfactoryconstructor
+nsmimeheaders
+nsimethodimp
+streamconverterdestructor
+nsok
+nsmodulecomponentinfo
+gcomponents
+mimeobjectclassaccess
+nsmimeobjectclassaccesscid
+nsnull
+nsmimeobjectclassaccessconstructor
+mime
+converter
+nsmimeconvertercid
+nsmimeconvertercontractid
+nsmimeconverterconstructor
+msg
+header
+parser
+nsmsgheaderparsercid
+nsmailnewsmimeheaderparsercontractid
+nsmsgheaderparserconstructor
+mailnews
+mime
+stream
+converter
+nsmailnewsmimestreamconvertercid
+nsmailnewsmimestreamconvertercontractid
+nsstreamconverterconstructor
+streamconverterdestructor
+mailnews
+mime
+stream
+converter
+nsmailnewsmimestreamconvertercid
+nsmailnewsmimestreamconvertercontractid
+nsstreamconverterconstructor
+streamconverterdestructor
+mailnews
+mime
+stream
+converter
+nsmailnewsmimestreamconvertercid
+nsmailnewsmimestreamconvertercontractid
+nsstreamconverterconstructor
+streamconverterdestructor
+mime
+headers
+nsimimeheaderscid
+nsimimeheaderscontractid
+nsmimeheadersconstructor
+nsimplnsgetmodule
+mimeservices
+gcomponents
\ No newline at end of file
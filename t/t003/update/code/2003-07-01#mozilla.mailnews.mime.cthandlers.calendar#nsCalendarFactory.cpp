@@ -0,0 +1,59 @@
+nsigenericfactory
+nsmimecontenttypehandler
+mimecal
+mimeobjectclass
+mimecalendarcreatecontenttypehandlerclass
+contenttype
+contenttypehandlerinitstruct
+initstruct
+nsimethodimp
+nscalendarmimecontenttypehandlerconstructor
+nsisupports
+aouter
+refnsiid
+aiid
+aresult
+nsresult
+rv
+nsmimecontenttypehandler
+inst
+nsnull
+aresult
+rv
+nserrornullpointer
+rv
+aresult
+aouter
+rv
+nserrornoaggregation
+rv
+inst
+nsmimecontenttypehandler
+calcontenttype
+mimecalendarcreatecontenttypehandlerclass
+inst
+nserroroutofmemory
+nsaddref
+inst
+rv
+inst
+queryinterface
+aiid
+aresult
+nsrelease
+inst
+rv
+nsmodulecomponentinfo
+components
+mime
+calendar
+handler
+nscalendarcontenttypehandlercid
+mimecth
+type
+text
+calendar
+nscalendarmimecontenttypehandlerconstructor
+nsimplnsgetmodule
+nscalendarmodule
+components
\ No newline at end of file
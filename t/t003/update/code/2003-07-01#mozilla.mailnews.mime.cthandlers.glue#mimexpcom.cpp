@@ -0,0 +1,168 @@
+nsicomponentmanager
+nsmimeobjectclassaccess
+nsmsgmimecid
+nscomptr
+nsdefinecid
+kmimeobjectclassaccesscid
+nsmimeobjectclassaccesscid
+comgetmimeinlinetextclass
+nscomptr
+nsimimeobjectclassaccess
+objaccess
+ptr
+nsresult
+res
+nscomponentmanager
+createinstance
+kmimeobjectclassaccesscid
+nsgetiid
+nsimimeobjectclassaccess
+getteraddrefs
+objaccess
+nssucceeded
+res
+objaccess
+objaccess
+getmimeinlinetextclass
+ptr
+ptr
+comgetmimeleafclass
+nscomptr
+nsimimeobjectclassaccess
+objaccess
+ptr
+nsresult
+res
+nscomponentmanager
+createinstance
+kmimeobjectclassaccesscid
+nsgetiid
+nsimimeobjectclassaccess
+getteraddrefs
+objaccess
+nssucceeded
+res
+objaccess
+objaccess
+getmimeleafclass
+ptr
+ptr
+comgetmimeobjectclass
+nscomptr
+nsimimeobjectclassaccess
+objaccess
+ptr
+nsresult
+res
+nscomponentmanager
+createinstance
+kmimeobjectclassaccesscid
+nsgetiid
+nsimimeobjectclassaccess
+getteraddrefs
+objaccess
+nssucceeded
+res
+objaccess
+objaccess
+getmimeobjectclass
+ptr
+ptr
+comgetmimecontainerclass
+nscomptr
+nsimimeobjectclassaccess
+objaccess
+ptr
+nsresult
+res
+nscomponentmanager
+createinstance
+kmimeobjectclassaccesscid
+nsgetiid
+nsimimeobjectclassaccess
+getteraddrefs
+objaccess
+nssucceeded
+res
+objaccess
+objaccess
+getmimecontainerclass
+ptr
+ptr
+comgetmimemultipartclass
+nscomptr
+nsimimeobjectclassaccess
+objaccess
+ptr
+nsresult
+res
+nscomponentmanager
+createinstance
+kmimeobjectclassaccesscid
+nsgetiid
+nsimimeobjectclassaccess
+getteraddrefs
+objaccess
+nssucceeded
+res
+objaccess
+objaccess
+getmimemultipartclass
+ptr
+ptr
+comgetmimemultipartsignedclass
+nscomptr
+nsimimeobjectclassaccess
+objaccess
+ptr
+nsresult
+res
+nscomponentmanager
+createinstance
+kmimeobjectclassaccesscid
+nsgetiid
+nsimimeobjectclassaccess
+getteraddrefs
+objaccess
+nssucceeded
+res
+objaccess
+objaccess
+getmimemultipartsignedclass
+ptr
+ptr
+commimeobjectwrite
+mimeobject
+data
+print
+length
+prbool
+uservisiblep
+nscomptr
+nsimimeobjectclassaccess
+objaccess
+print
+rc
+nsresult
+res
+nscomponentmanager
+createinstance
+kmimeobjectclassaccesscid
+nsgetiid
+nsimimeobjectclassaccess
+getteraddrefs
+objaccess
+nssucceeded
+res
+objaccess
+nssucceeded
+objaccess
+mimeobjectwrite
+mimeobject
+data
+length
+uservisiblep
+rc
+length
+rc
+rc
\ No newline at end of file
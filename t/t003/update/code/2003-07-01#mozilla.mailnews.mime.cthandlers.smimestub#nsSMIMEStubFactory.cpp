@@ -0,0 +1,72 @@
+nsigenericfactory
+nssmimestub
+nsmimecontenttypehandler
+mimeobjectclass
+mimesmimecreatecontenttypehandlerclass
+contenttype
+contenttypehandlerinitstruct
+initstruct
+nsimethodimp
+nssmimemimecontenttypehandlerconstructor
+nsisupports
+aouter
+refnsiid
+aiid
+aresult
+nsresult
+rv
+nsmimecontenttypehandler
+inst
+nsnull
+aresult
+rv
+nserrornullpointer
+rv
+aresult
+aouter
+rv
+nserrornoaggregation
+rv
+inst
+nsmimecontenttypehandler
+smimecontenttype
+mimesmimecreatecontenttypehandlerclass
+inst
+nserroroutofmemory
+nsaddref
+inst
+rv
+inst
+queryinterface
+aiid
+aresult
+nsrelease
+inst
+rv
+nsmodulecomponentinfo
+components
+mime
+smimestubed
+mail
+handler
+nssmimecontenttypehandlercid
+mimecth
+type
+application
+pkcs
+mime
+nssmimemimecontenttypehandlerconstructor
+mime
+smimestubed
+mail
+handler
+nssmimecontenttypehandlercid
+mimecth
+type
+application
+pkcs
+mime
+nssmimemimecontenttypehandlerconstructor
+nsimplnsgetmodule
+nssmimemodule
+components
\ No newline at end of file
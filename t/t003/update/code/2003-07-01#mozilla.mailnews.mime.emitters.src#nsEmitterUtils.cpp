@@ -0,0 +1,119 @@
+nscomptr
+prmem
+plstr
+nsmailheaders
+nsimimeemitter
+nsistringbundle
+nsipref
+nsiservicemanager
+nsiioservice
+nsiuri
+prprf
+nsspecialsystemdirectory
+prbool
+emitthisheaderforprefsetting
+print
+disptype
+header
+nsmimeheaderdisplaytypes
+allheaders
+disptype
+prtrue
+header
+header
+prfalse
+nsmimeheaderdisplaytypes
+microheaders
+disptype
+nscrt
+strcmp
+header
+headersubject
+nscrt
+strcmp
+header
+headerfrom
+nscrt
+strcmp
+header
+headerdate
+prtrue
+prfalse
+nsmimeheaderdisplaytypes
+normalheaders
+disptype
+nscrt
+strcmp
+header
+headerdate
+nscrt
+strcmp
+header
+headerto
+nscrt
+strcmp
+header
+headersubject
+nscrt
+strcmp
+header
+headersender
+nscrt
+strcmp
+header
+headerresentto
+nscrt
+strcmp
+header
+headerresentsender
+nscrt
+strcmp
+header
+headerresentfrom
+nscrt
+strcmp
+header
+headerresentcc
+nscrt
+strcmp
+header
+headerreplyto
+nscrt
+strcmp
+header
+headerreferences
+nscrt
+strcmp
+header
+headernewsgroups
+nscrt
+strcmp
+header
+headermessageid
+nscrt
+strcmp
+header
+headerfrom
+nscrt
+strcmp
+header
+headerfollowupto
+nscrt
+strcmp
+header
+headercc
+nscrt
+strcmp
+header
+headerorganization
+nscrt
+strcmp
+header
+headerreplyto
+nscrt
+strcmp
+header
+headerbcc
+prtrue
+prfalse
+prtrue
\ No newline at end of file
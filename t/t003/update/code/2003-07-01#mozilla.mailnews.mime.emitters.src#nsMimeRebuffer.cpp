@@ -0,0 +1,70 @@
+nsmimerebuffer
+prmem
+mimerebuffer
+mimerebuffer
+msize
+mbuf
+mimerebuffer
+mimerebuffer
+mbuf
+prfreeif
+mbuf
+mbuf
+pruint
+mimerebuffer
+getsize
+msize
+pruint
+mimerebuffer
+increasebuffer
+addbuf
+pruint
+size
+addbuf
+size
+msize
+mbuf
+prrealloc
+mbuf
+size
+msize
+mbuf
+msize
+msize
+memcpy
+mbuf
+msize
+addbuf
+size
+msize
+size
+msize
+pruint
+mimerebuffer
+reducebuffer
+pruint
+numbytes
+numbytes
+msize
+mbuf
+msize
+msize
+numbytes
+msize
+prfreeif
+mbuf
+mbuf
+msize
+msize
+memcpy
+mbuf
+mbuf
+numbytes
+msize
+numbytes
+msize
+numbytes
+msize
+mimerebuffer
+getbuffer
+mbuf
\ No newline at end of file
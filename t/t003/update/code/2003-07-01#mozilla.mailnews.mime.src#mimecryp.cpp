@@ -0,0 +1,789 @@
+mimecryp
+mimemoz
+nsmimetypes
+nsmimestringresources
+mimebuf
+prmem
+plstr
+prlog
+nscrt
+mimemult
+define
+mimesuperclass
+mimecontainerclass
+mimedefclass
+mimeencrypted
+mimeencryptedclass
+mimeencryptedclass
+mimesuperclass
+mimeencryptedinitialize
+mimeobject
+mimeencryptedfinalize
+mimeobject
+mimeencryptedparsebegin
+mimeobject
+mimeencryptedparsebuffer
+print
+mimeobject
+mimeencryptedparseline
+print
+mimeobject
+mimeencryptedparsedecodedbuffer
+print
+mimeobject
+mimeencryptedparseeof
+mimeobject
+prbool
+mimeencryptedparseend
+mimeobject
+prbool
+mimeencryptedaddchild
+mimeobject
+mimeobject
+mimehandledecryptedoutput
+print
+mimehandledecryptedoutputline
+print
+mimeobject
+mimeencryptedcloseheaders
+mimeobject
+mimeencryptedemitbufferedchild
+mimeobject
+mimeencryptedclassinitialize
+mimeencryptedclass
+clazz
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+mimecontainerclass
+cclass
+mimecontainerclass
+clazz
+nsassertion
+oclass
+classinitialized
+mscott
+netscape
+nov
+oclass
+initialize
+mimeencryptedinitialize
+oclass
+finalize
+mimeencryptedfinalize
+oclass
+parsebegin
+mimeencryptedparsebegin
+oclass
+parsebuffer
+mimeencryptedparsebuffer
+oclass
+parseline
+mimeencryptedparseline
+oclass
+parseeof
+mimeencryptedparseeof
+oclass
+parseend
+mimeencryptedparseend
+cclass
+addchild
+mimeencryptedaddchild
+clazz
+parsedecodedbuffer
+mimeencryptedparsedecodedbuffer
+mimeencryptedinitialize
+mimeobject
+obj
+mimeobjectclass
+mimesuperclass
+initialize
+obj
+mimeencryptedparsebegin
+mimeobject
+obj
+mimeencrypted
+enc
+mimeencrypted
+obj
+mimedecoderdata
+fn
+nsresult
+print
+enc
+cryptoclosure
+enc
+cryptoclosure
+mimeencryptedclass
+obj
+clazz
+cryptoinit
+obj
+mimehandledecryptedoutput
+obj
+enc
+cryptoclosure
+obj
+encoding
+nscrt
+strcasecmp
+obj
+encoding
+encodingbase
+fn
+mimebdecoderinit
+nscrt
+strcasecmp
+obj
+encoding
+encodingquotedprintable
+fn
+mimeqpdecoderinit
+nscrt
+strcasecmp
+obj
+encoding
+encodinguuencode
+nscrt
+strcasecmp
+obj
+encoding
+encodinguuencode
+nscrt
+strcasecmp
+obj
+encoding
+encodinguuencode
+nscrt
+strcasecmp
+obj
+encoding
+encodinguuencode
+fn
+mimeuudecoderinit
+nscrt
+strcasecmp
+obj
+encoding
+encodingyencode
+fn
+mimeydecoderinit
+fn
+enc
+decoderdata
+fn
+nsresult
+print
+mimeencryptedclass
+obj
+clazz
+parsedecodedbuffer
+obj
+enc
+decoderdata
+mimeoutofmemory
+mimeobjectclass
+mimesuperclass
+parsebegin
+obj
+mimeencryptedparsebuffer
+buffer
+print
+size
+mimeobject
+obj
+mimeencrypted
+enc
+mimeencrypted
+obj
+obj
+closedp
+enc
+decoderdata
+mimedecoderwrite
+enc
+decoderdata
+buffer
+size
+mimeencryptedclass
+obj
+clazz
+parsedecodedbuffer
+buffer
+size
+obj
+mimeencryptedparseline
+line
+print
+length
+mimeobject
+obj
+nsassertion
+mscott
+netscape
+nov
+mimeencryptedparsedecodedbuffer
+buffer
+print
+size
+mimeobject
+obj
+mimeencrypted
+enc
+mimeencrypted
+obj
+mimeencryptedclass
+obj
+clazz
+cryptowrite
+buffer
+size
+enc
+cryptoclosure
+mimeencryptedparseeof
+mimeobject
+obj
+prbool
+abortp
+status
+mimeencrypted
+enc
+mimeencrypted
+obj
+obj
+closedp
+nsassertion
+obj
+parsedp
+mscott
+netscape
+nov
+enc
+decoderdata
+status
+mimedecoderdestroy
+enc
+decoderdata
+prfalse
+enc
+decoderdata
+status
+status
+abortp
+obj
+ibufferfp
+status
+mimehandledecryptedoutputline
+obj
+ibuffer
+obj
+ibufferfp
+obj
+obj
+ibufferfp
+status
+obj
+closedp
+prtrue
+status
+status
+mimeobjectclass
+mimesuperclass
+parseeof
+obj
+abortp
+status
+status
+enc
+cryptoclosure
+status
+mimeencryptedclass
+obj
+clazz
+cryptoeof
+enc
+cryptoclosure
+abortp
+status
+abortp
+status
+abortp
+mimeencryptedemitbufferedchild
+obj
+mimeencryptedparseend
+mimeobject
+obj
+prbool
+abortp
+mimeobjectclass
+mimesuperclass
+parseend
+obj
+abortp
+mimeencryptedcleanup
+mimeobject
+obj
+prbool
+finalizingp
+mimeencrypted
+enc
+mimeencrypted
+obj
+enc
+partbuffer
+mimepartbufferdestroy
+enc
+partbuffer
+enc
+partbuffer
+finalizingp
+enc
+cryptoclosure
+mimeencryptedclass
+obj
+clazz
+cryptofree
+enc
+cryptoclosure
+enc
+cryptoclosure
+enc
+decoderdata
+mimedecoderdestroy
+enc
+decoderdata
+prtrue
+enc
+decoderdata
+enc
+hdrs
+mimeheadersfree
+enc
+hdrs
+enc
+hdrs
+mimeencryptedfinalize
+mimeobject
+obj
+mimeencryptedcleanup
+obj
+prtrue
+mimeobjectclass
+mimesuperclass
+finalize
+obj
+mimehandledecryptedoutput
+buf
+print
+bufsize
+outputclosure
+mimeobject
+obj
+mimeobject
+outputclosure
+mimelinebuffer
+buf
+bufsize
+obj
+ibuffer
+obj
+ibuffersize
+obj
+ibufferfp
+prtrue
+prcallback
+print
+mimehandledecryptedoutputline
+obj
+mimehandledecryptedoutputline
+line
+print
+length
+mimeobject
+obj
+mimeencrypted
+enc
+mimeencrypted
+obj
+status
+line
+line
+obj
+outputp
+obj
+options
+obj
+options
+writehtmlp
+obj
+options
+outputfn
+mimeobjectwrite
+obj
+line
+length
+prtrue
+enc
+partbuffer
+mimepartbufferwrite
+enc
+partbuffer
+line
+length
+enc
+hdrs
+enc
+hdrs
+mimeheadersnew
+enc
+hdrs
+mimeoutofmemory
+status
+mimeheadersparseline
+line
+length
+enc
+hdrs
+status
+status
+line
+nscrt
+cr
+line
+nscrt
+lf
+status
+mimeencryptedcloseheaders
+obj
+status
+status
+mimeencryptedcloseheaders
+mimeobject
+obj
+mimeencrypted
+enc
+mimeencrypted
+obj
+enc
+partbuffer
+enc
+partbuffer
+mimepartbuffercreate
+enc
+partbuffer
+mimeoutofmemory
+mimeencryptedaddchild
+mimeobject
+parent
+mimeobject
+child
+mimecontainer
+cont
+mimecontainer
+parent
+parent
+child
+cont
+nchildren
+mimecontainerclass
+mimesuperclass
+addchild
+parent
+child
+mimeencryptedemitbufferedchild
+mimeobject
+obj
+mimeencrypted
+enc
+mimeencrypted
+obj
+status
+ct
+mimeobject
+body
+nsassertion
+enc
+cryptoclosure
+mscott
+netscape
+nov
+enc
+cryptoclosure
+obj
+options
+obj
+options
+headers
+mimeheaderscitation
+obj
+options
+writehtmlp
+obj
+options
+outputfn
+html
+html
+mimeencryptedclass
+obj
+clazz
+cryptogeneratehtml
+enc
+cryptoclosure
+html
+status
+mimeobjectwrite
+obj
+html
+nscrt
+strlen
+html
+prfalse
+prfreeif
+html
+status
+status
+endif
+obj
+options
+obj
+options
+state
+obj
+options
+generatepostheaderhtmlfn
+obj
+options
+state
+postheaderhtmlrunp
+mimeheaders
+outerheaders
+nsnull
+mimeobject
+obj
+parent
+parent
+outerheaders
+headers
+nsassertion
+obj
+options
+state
+firstdatawrittenp
+mscott
+netscape
+nov
+html
+obj
+options
+generatepostheaderhtmlfn
+obj
+options
+htmlclosure
+outerheaders
+obj
+options
+state
+postheaderhtmlrunp
+prtrue
+html
+status
+mimeobjectwrite
+obj
+html
+strlen
+html
+prfalse
+prfreeif
+html
+status
+status
+enc
+cryptoclosure
+obj
+options
+obj
+options
+decryptp
+html
+mimeencryptedclass
+obj
+clazz
+cryptogeneratehtml
+enc
+cryptoclosure
+prfreeif
+html
+enc
+hdrs
+ct
+mimeheadersget
+enc
+hdrs
+headercontenttype
+prtrue
+prfalse
+body
+mimecreate
+ct
+ct
+textplain
+enc
+hdrs
+obj
+options
+ifdef
+mimedrafts
+obj
+options
+decomposefilep
+mimetypep
+body
+mimeobjectclass
+mimemultipartclass
+obj
+options
+ismultipartmsg
+prtrue
+obj
+options
+decomposefileinitfn
+obj
+options
+decomposefileinitfn
+obj
+options
+streamclosure
+enc
+hdrs
+endif
+prfreeif
+ct
+body
+mimeoutofmemory
+status
+mimecontainerclass
+obj
+clazz
+addchild
+obj
+body
+status
+mimefree
+body
+status
+status
+body
+clazz
+parsebegin
+body
+status
+status
+body
+outputp
+obj
+outputp
+obj
+parent
+obj
+parent
+outputp
+body
+outputp
+prtrue
+body
+outputp
+obj
+outputp
+obj
+options
+writehtmlp
+status
+mimeobjectwrite
+body
+prfalse
+status
+status
+status
+mimeheaderswriterawheaders
+body
+headers
+obj
+options
+prfalse
+status
+status
+enc
+partbuffer
+ifdef
+mimedrafts
+obj
+options
+decomposefilep
+obj
+options
+ismultipartmsg
+status
+mimepartbufferread
+enc
+partbuffer
+nsresult
+print
+obj
+options
+decomposefileoutputfn
+obj
+options
+streamclosure
+endif
+status
+mimepartbufferread
+enc
+partbuffer
+nsresult
+print
+body
+clazz
+parsebuffer
+body
+status
+status
+status
+body
+clazz
+parseeof
+body
+prfalse
+status
+status
+status
+body
+clazz
+parseend
+body
+prfalse
+status
+status
+ifdef
+mimedrafts
+obj
+options
+decomposefilep
+obj
+options
+ismultipartmsg
+obj
+options
+decomposefileclosefn
+obj
+options
+streamclosure
+endif
+status
+mimeobjectwriteseparator
+obj
+status
+status
+mimeencryptedcleanup
+obj
+prfalse
\ No newline at end of file
@@ -0,0 +1,19 @@
+mimecth
+mimeinlinetextclass
+mimegetmimeinlinetextclass
+mimeinlinetextclass
+mimeleafclass
+mimegetmimeleafclass
+mimeleafclass
+mimeobjectclass
+mimegetmimeobjectclass
+mimeobjectclass
+mimecontainerclass
+mimegetmimecontainerclass
+mimecontainerclass
+mimemultipartclass
+mimegetmimemultipartclass
+mimemultipartclass
+mimemultipartsignedclass
+mimegetmimemultipartsignedclass
+mimemultipartsignedclass
\ No newline at end of file
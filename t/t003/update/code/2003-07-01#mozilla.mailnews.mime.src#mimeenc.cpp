@@ -0,0 +1,1528 @@
+stdio
+modmimee
+mimei
+nscrt
+prmem
+plstr
+prlog
+prprf
+mimeencoding
+mimebase
+mimequotedprintable
+mimeuuencode
+mimeyencode
+mimeencoding
+mimedecoderstate
+dsbegin
+dsbody
+dsend
+mimedecoderstate
+mimedecoderdata
+mimeencoding
+encoding
+token
+tokensize
+mimedecoderstate
+dsstate
+linebuffer
+linebuffersize
+nsresult
+writebuffer
+buf
+print
+size
+closure
+closure
+mimedecodeqpbuffer
+mimedecoderdata
+data
+buffer
+print
+length
+in
+buffer
+out
+buffer
+token
+nsassertion
+data
+encoding
+mimequotedprintable
+rhp
+netscape
+mar
+data
+encoding
+mimequotedprintable
+data
+tokensize
+token
+data
+token
+data
+tokensize
+length
+length
+token
+in
+in
+length
+memcpy
+data
+token
+token
+data
+tokensize
+length
+token
+token
+token
+token
+token
+token
+token
+token
+token
+token
+token
+nscrt
+cr
+token
+nscrt
+lf
+token
+nscrt
+cr
+token
+nscrt
+lf
+in
+length
+in
+out
+out
+token
+in
+out
+out
+token
+in
+out
+out
+token
+token
+token
+token
+token
+token
+token
+token
+token
+token
+in
+out
+out
+token
+in
+out
+out
+token
+in
+out
+out
+token
+out
+out
+token
+token
+token
+token
+token
+out
+buffer
+data
+writebuffer
+buffer
+out
+buffer
+data
+closure
+mimedecodebasetoken
+in
+out
+eqcount
+num
+in
+in
+in
+in
+in
+in
+in
+in
+in
+in
+in
+in
+eqcount
+nsassertion
+rhp
+netscape
+mar
+num
+num
+out
+num
+out
+num
+xff
+out
+num
+xff
+eqcount
+eqcount
+eqcount
+nsassertion
+rhp
+netscape
+mar
+mimedecodebasebuffer
+mimedecoderdata
+data
+buffer
+print
+length
+in
+buffer
+out
+buffer
+token
+prbool
+leftover
+data
+tokensize
+nsassertion
+data
+encoding
+mimebase
+rhp
+netscape
+mar
+data
+tokensize
+token
+data
+token
+data
+tokensize
+length
+length
+in
+in
+in
+in
+in
+in
+in
+in
+in
+token
+in
+in
+length
+memcpy
+data
+token
+token
+data
+tokensize
+length
+leftover
+mimedecodebasetoken
+token
+token
+data
+writebuffer
+token
+data
+closure
+buffer
+in
+out
+buffer
+leftover
+prfalse
+mimedecodebasetoken
+token
+out
+out
+out
+buffer
+data
+writebuffer
+buffer
+out
+buffer
+data
+closure
+mimedecodeuuebuffer
+mimedecoderdata
+data
+inputbuffer
+print
+inputlength
+data
+linebuffer
+data
+linebuffersize
+data
+linebuffer
+prmalloc
+data
+linebuffersize
+data
+linebuffer
+data
+linebuffer
+status
+line
+data
+linebuffer
+lineend
+data
+linebuffer
+data
+linebuffersize
+nsassertion
+data
+encoding
+mimeuuencode
+rhp
+netscape
+mar
+data
+encoding
+mimeuuencode
+data
+dsstate
+dsend
+status
+done
+inputlength
+out
+line
+strlen
+line
+inputlength
+out
+lineend
+out
+inputbuffer
+inputlength
+out
+nscrt
+cr
+out
+nscrt
+lf
+out
+nscrt
+cr
+inputlength
+inputbuffer
+nscrt
+lf
+inputbuffer
+inputlength
+out
+line
+nscrt
+cr
+line
+nscrt
+lf
+line
+out
+lineend
+out
+out
+nscrt
+cr
+out
+out
+nscrt
+cr
+out
+nscrt
+lf
+nsassertion
+inputlength
+rhp
+netscape
+mar
+data
+dsstate
+dsbody
+line
+line
+line
+line
+nscrt
+cr
+line
+nscrt
+lf
+data
+dsstate
+dsend
+line
+data
+dsstate
+dsbegin
+strncmp
+line
+begin
+data
+dsstate
+dsbody
+line
+in
+out
+print
+lost
+nsassertion
+data
+dsstate
+dsbody
+rhp
+netscape
+mar
+in
+line
+out
+line
+undef
+dec
+define
+dec
+dec
+in
+lost
+strlen
+in
+lost
+lost
+in
+in
+ch
+nsassertion
+out
+in
+rhp
+netscape
+mar
+ch
+dec
+in
+dec
+in
+out
+ch
+nsassertion
+out
+in
+rhp
+netscape
+mar
+ch
+dec
+in
+dec
+in
+out
+ch
+nsassertion
+out
+in
+rhp
+netscape
+mar
+ch
+dec
+in
+dec
+in
+out
+ch
+nsassertion
+out
+in
+rhp
+netscape
+mar
+nsassertion
+rhp
+netscape
+mar
+ch
+dec
+in
+dec
+in
+out
+ch
+nsassertion
+out
+in
+rhp
+netscape
+mar
+ch
+dec
+in
+dec
+in
+out
+ch
+nsassertion
+out
+in
+rhp
+netscape
+mar
+lost
+out
+lost
+in
+out
+undef
+dec
+nsassertion
+out
+line
+out
+in
+rhp
+netscape
+mar
+out
+line
+status
+data
+writebuffer
+line
+out
+line
+data
+closure
+line
+status
+done
+status
+done
+status
+mimedecodeyencbuffer
+mimedecoderdata
+data
+inputbuffer
+print
+inputlength
+data
+linebuffer
+data
+linebuffersize
+data
+linebuffer
+prmalloc
+data
+linebuffersize
+data
+linebuffer
+data
+linebuffer
+status
+line
+data
+linebuffer
+lineend
+data
+linebuffer
+data
+linebuffersize
+nsassertion
+data
+encoding
+mimeyencode
+wrong
+decoder
+data
+encoding
+mimeyencode
+data
+dsstate
+dsend
+inputlength
+out
+line
+strlen
+line
+inputlength
+out
+lineend
+out
+inputbuffer
+inputlength
+out
+nscrt
+cr
+out
+nscrt
+lf
+out
+nscrt
+cr
+inputlength
+inputbuffer
+nscrt
+lf
+inputbuffer
+inputlength
+out
+line
+nscrt
+cr
+line
+nscrt
+lf
+line
+out
+lineend
+out
+out
+nscrt
+cr
+out
+out
+nscrt
+cr
+out
+nscrt
+lf
+nsassertion
+inputlength
+empty
+buffer
+endofline
+line
+strlen
+line
+data
+dsstate
+dsbegin
+newlinesize
+endofline
+line
+strncmp
+line
+ybegin
+line
+line
+line
+endofline
+line
+line
+line
+newlinesize
+newlinesize
+line
+endofline
+line
+strncmp
+line
+size
+line
+line
+endofline
+line
+line
+line
+endofline
+line
+strncmp
+line
+name
+data
+dsstate
+dsbody
+newlinesize
+data
+linebuffersize
+newlinesize
+prfree
+data
+linebuffer
+data
+linebuffersize
+newlinesize
+data
+linebuffer
+prmalloc
+data
+linebuffersize
+data
+linebuffer
+data
+linebuffer
+data
+dsstate
+dsbody
+line
+strncmp
+line
+yend
+size
+data
+dsstate
+dsend
+line
+src
+line
+dest
+src
+src
+lineend
+src
+src
+nscrt
+cr
+nscrt
+lf
+src
+src
+dest
+dest
+nsassertion
+dest
+line
+dest
+src
+nothing
+to
+write
+dest
+line
+status
+data
+writebuffer
+line
+dest
+line
+data
+closure
+status
+status
+line
+mimedecoderdestroy
+mimedecoderdata
+data
+prbool
+abortp
+status
+abortp
+data
+tokensize
+data
+token
+data
+encoding
+mimebase
+data
+tokensize
+data
+token
+data
+token
+data
+tokensize
+status
+data
+writebuffer
+data
+token
+data
+tokensize
+data
+closure
+data
+linebuffer
+prfree
+data
+linebuffer
+prfree
+data
+status
+mimedecoderdata
+mimedecoderinit
+mimeencoding
+which
+nsresult
+outputfn
+print
+closure
+mimedecoderdata
+data
+prnew
+mimedecoderdata
+data
+memset
+data
+data
+data
+encoding
+which
+data
+writebuffer
+outputfn
+data
+closure
+closure
+data
+linebuffersize
+data
+linebuffer
+nsnull
+data
+mimedecoderdata
+mimebdecoderinit
+nsresult
+outputfn
+print
+closure
+mimedecoderinit
+mimebase
+outputfn
+closure
+mimedecoderdata
+mimeqpdecoderinit
+nsresult
+outputfn
+print
+closure
+mimedecoderinit
+mimequotedprintable
+outputfn
+closure
+mimedecoderdata
+mimeuudecoderinit
+nsresult
+outputfn
+print
+closure
+mimedecoderinit
+mimeuuencode
+outputfn
+closure
+mimedecoderdata
+mimeydecoderinit
+nsresult
+outputfn
+print
+closure
+mimedecoderinit
+mimeyencode
+outputfn
+closure
+mimedecoderwrite
+mimedecoderdata
+data
+buffer
+print
+size
+nsassertion
+data
+rhp
+netscape
+mar
+data
+data
+encoding
+mimebase
+mimedecodebasebuffer
+data
+buffer
+size
+mimequotedprintable
+mimedecodeqpbuffer
+data
+buffer
+size
+mimeuuencode
+mimedecodeuuebuffer
+data
+buffer
+size
+mimeyencode
+mimedecodeyencbuffer
+data
+buffer
+size
+nsassertion
+rhp
+netscape
+mar
+mimeencoderdata
+mimeencoding
+encoding
+inbuffer
+print
+inbuffercount
+uuelinebuf
+prbool
+uuewrotebegin
+print
+currentcolumn
+linebytecount
+filename
+nsresult
+writebuffer
+buf
+print
+size
+closure
+closure
+define
+uuencodelinelimit
+undef
+enc
+define
+enc
+xf
+mimeuuencodewriteline
+mimeencoderdata
+data
+data
+uuelinebuf
+enc
+data
+linebytecount
+data
+uuelinebuf
+data
+currentcolumn
+nscrt
+cr
+data
+uuelinebuf
+data
+currentcolumn
+nscrt
+lf
+data
+writebuffer
+data
+uuelinebuf
+data
+currentcolumn
+data
+closure
+data
+inbuffercount
+data
+linebytecount
+data
+currentcolumn
+mimeuuencodeconverttriplet
+mimeencoderdata
+data
+outdata
+outdata
+data
+inbuffer
+outdata
+data
+inbuffer
+outdata
+data
+inbuffer
+outdata
+data
+inbuffer
+xc
+outdata
+data
+inbuffer
+outdata
+data
+inbuffer
+xf
+data
+uuelinebuf
+data
+currentcolumn
+enc
+outdata
+data
+inbuffercount
+mimeuuencodebuffer
+mimeencoderdata
+data
+buffer
+print
+size
+data
+uuewrotebegin
+firstline
+prsnprintf
+firstline
+firstline
+begin
+data
+filename
+data
+filename
+data
+writebuffer
+firstline
+strlen
+firstline
+data
+closure
+data
+uuewrotebegin
+prtrue
+data
+currentcolumn
+size
+data
+currentcolumn
+uuencodelinelimit
+mimeuuencodewriteline
+data
+size
+data
+inbuffercount
+data
+inbuffer
+data
+inbuffercount
+buffer
+size
+data
+linebytecount
+data
+inbuffercount
+mimeuuencodeconverttriplet
+data
+mimeuuencodefinish
+mimeencoderdata
+data
+endstr
+end
+data
+linebytecount
+data
+inbuffercount
+data
+inbuffercount
+data
+inbuffer
+mimeuuencodeconverttriplet
+data
+mimeuuencodewriteline
+data
+data
+writebuffer
+endstr
+strlen
+endstr
+data
+closure
+undef
+enc
+mimeencodebasebuffer
+mimeencoderdata
+data
+buffer
+print
+size
+status
+in
+buffer
+end
+in
+size
+outbuffer
+out
+outbuffer
+pruint
+pruint
+off
+size
+size
+nsassertion
+rhp
+netscape
+mar
+size
+data
+inbuffercount
+nsassertion
+size
+size
+rhp
+netscape
+mar
+data
+inbuffer
+data
+inbuffercount
+buffer
+size
+data
+inbuffer
+data
+inbuffercount
+buffer
+nsassertion
+data
+inbuffercount
+rhp
+netscape
+mar
+data
+inbuffercount
+data
+inbuffer
+data
+inbuffercount
+data
+inbuffer
+data
+inbuffercount
+data
+inbuffercount
+off
+size
+off
+data
+inbuffer
+buffer
+size
+off
+off
+data
+inbuffer
+buffer
+size
+off
+data
+inbuffercount
+off
+size
+off
+nsassertion
+size
+rhp
+netscape
+mar
+end
+buffer
+size
+in
+end
+print
+in
+xf
+out
+out
+out
+out
+out
+abort
+data
+currentcolumn
+data
+currentcolumn
+data
+currentcolumn
+out
+out
+status
+data
+writebuffer
+outbuffer
+out
+outbuffer
+data
+closure
+out
+outbuffer
+status
+status
+out
+outbuffer
+status
+data
+writebuffer
+outbuffer
+out
+outbuffer
+data
+closure
+status
+status
+mimeencodeqpbuffer
+mimeencoderdata
+data
+buffer
+print
+size
+status
+hexdigits
+abcdef
+in
+buffer
+end
+in
+size
+outbuffer
+out
+outbuffer
+prbool
+white
+prfalse
+prbool
+mbp
+prfalse
+nsassertion
+data
+inbuffercount
+rhp
+netscape
+mar
+in
+end
+in
+in
+nscrt
+cr
+in
+nscrt
+lf
+white
+out
+whitespacechar
+out
+out
+out
+hexdigits
+whitespacechar
+out
+hexdigits
+whitespacechar
+xf
+out
+nscrt
+cr
+out
+nscrt
+lf
+white
+prfalse
+status
+data
+writebuffer
+outbuffer
+out
+outbuffer
+data
+closure
+status
+status
+out
+outbuffer
+in
+nscrt
+cr
+in
+nscrt
+lf
+in
+out
+outbuffer
+white
+prfalse
+data
+currentcolumn
+data
+currentcolumn
+in
+hex
+data
+currentcolumn
+in
+in
+end
+in
+in
+end
+in
+in
+end
+in
+in
+end
+in
+hex
+in
+in
+in
+in
+mbp
+in
+in
+in
+xb
+white
+prfalse
+out
+in
+data
+currentcolumn
+in
+in
+white
+prtrue
+out
+in
+data
+currentcolumn
+hex
+white
+prfalse
+out
+out
+hexdigits
+in
+out
+hexdigits
+in
+xf
+data
+currentcolumn
+nsassertion
+data
+currentcolumn
+rhp
+netscape
+mar
+data
+currentcolumn
+out
+out
+nscrt
+cr
+out
+nscrt
+lf
+status
+data
+writebuffer
+outbuffer
+out
+outbuffer
+data
+closure
+status
+status
+out
+outbuffer
+white
+prfalse
+data
+currentcolumn
+out
+outbuffer
+status
+data
+writebuffer
+outbuffer
+out
+outbuffer
+data
+closure
+status
+status
+mimeencoderdestroy
+mimeencoderdata
+data
+prbool
+abortp
+status
+data
+encoding
+mimeuuencode
+mimeuuencodefinish
+data
+nsassertion
+data
+encoding
+mimebase
+data
+inbuffercount
+rhp
+netscape
+mar
+abortp
+data
+inbuffercount
+buf
+buf
+buf
+out
+buf
+pruint
+pruint
+data
+inbuffer
+data
+inbuffercount
+pruint
+data
+inbuffer
+buf
+nscrt
+cr
+buf
+nscrt
+lf
+xf
+out
+out
+out
+out
+out
+abort
+data
+inbuffercount
+buf
+buf
+data
+currentcolumn
+status
+data
+writebuffer
+buf
+data
+closure
+status
+data
+writebuffer
+buf
+data
+closure
+prfreeif
+data
+filename
+prfree
+data
+status
+mimeencoderdata
+mimeencoderinit
+mimeencoding
+which
+nsresult
+outputfn
+print
+closure
+mimeencoderdata
+data
+prnew
+mimeencoderdata
+data
+memset
+data
+data
+data
+encoding
+which
+data
+writebuffer
+outputfn
+data
+closure
+closure
+data
+mimeencoderdata
+mimebencoderinit
+nsresult
+outputfn
+print
+closure
+mimeencoderinit
+mimebase
+outputfn
+closure
+mimeencoderdata
+mimeqpencoderinit
+nsresult
+outputfn
+print
+closure
+mimeencoderinit
+mimequotedprintable
+outputfn
+closure
+mimeencoderdata
+mimeuuencoderinit
+filename
+nsresult
+outputfn
+print
+closure
+mimeencoderdata
+enc
+mimeencoderinit
+mimeuuencode
+outputfn
+closure
+filename
+enc
+filename
+nscrt
+strdup
+filename
+enc
+mimeencoderwrite
+mimeencoderdata
+data
+buffer
+print
+size
+nsassertion
+data
+rhp
+netscape
+mar
+data
+data
+encoding
+mimebase
+mimeencodebasebuffer
+data
+buffer
+size
+mimequotedprintable
+mimeencodeqpbuffer
+data
+buffer
+size
+mimeuuencode
+mimeuuencodebuffer
+data
+buffer
+size
+nsassertion
+rhp
+netscape
+mar
\ No newline at end of file
@@ -0,0 +1,370 @@
+nscomptr
+mimeiimg
+mimemoz
+prmem
+plstr
+prlog
+nsmimetypes
+nsmimestringresources
+nscrt
+nsescape
+define
+mimesuperclass
+mimeleafclass
+mimedefclass
+mimeinlineimage
+mimeinlineimageclass
+mimeinlineimageclass
+mimesuperclass
+mimeinlineimageinitialize
+mimeobject
+mimeinlineimagefinalize
+mimeobject
+mimeinlineimageparsebegin
+mimeobject
+mimeinlineimageparseline
+print
+mimeobject
+mimeinlineimageparseeof
+mimeobject
+prbool
+mimeinlineimageparsedecodedbuffer
+print
+mimeobject
+mimeinlineimageclassinitialize
+mimeinlineimageclass
+clazz
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+mimeleafclass
+lclass
+mimeleafclass
+clazz
+nsassertion
+oclass
+classinitialized
+rhp
+netscape
+mar
+oclass
+initialize
+mimeinlineimageinitialize
+oclass
+finalize
+mimeinlineimagefinalize
+oclass
+parsebegin
+mimeinlineimageparsebegin
+oclass
+parseline
+mimeinlineimageparseline
+oclass
+parseeof
+mimeinlineimageparseeof
+lclass
+parsedecodedbuffer
+mimeinlineimageparsedecodedbuffer
+mimeinlineimageinitialize
+mimeobject
+object
+mimeobjectclass
+mimesuperclass
+initialize
+object
+mimeinlineimagefinalize
+mimeobject
+object
+mimeobjectclass
+mimesuperclass
+finalize
+object
+mimeinlineimageparsebegin
+mimeobject
+obj
+mimeinlineimage
+img
+mimeinlineimage
+obj
+mimeinlineimageclass
+clazz
+status
+status
+mimeobjectclass
+mimesuperclass
+parsebegin
+obj
+status
+status
+obj
+outputp
+obj
+options
+obj
+options
+outputfn
+clazz
+mimeinlineimageclass
+obj
+clazz
+obj
+options
+obj
+options
+imagebegin
+obj
+options
+writehtmlp
+obj
+options
+imagewritebuffer
+html
+part
+imageurl
+ct
+part
+mimepartaddress
+obj
+part
+mimeoutofmemory
+noparturl
+nsnull
+obj
+options
+parttoload
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagebodydisplay
+noparturl
+mimegetbaseurl
+obj
+options
+url
+noparturl
+imageurl
+mimeseturlpart
+noparturl
+part
+prtrue
+prfree
+noparturl
+imageurl
+mimeseturlpart
+obj
+options
+url
+part
+prtrue
+imageurl
+prfree
+part
+mimeoutofmemory
+prfree
+part
+ct
+obj
+contenttype
+ct
+ct
+imagegif
+nscautostring
+urlwithfilename
+imageurl
+urlwithfilename
+type
+urlwithfilename
+ct
+filename
+mimeheadersgetname
+obj
+headers
+obj
+options
+filename
+escapedname
+nsescape
+filename
+urlpath
+escapedname
+mimeoutofmemory
+urlwithfilename
+filename
+urlwithfilename
+escapedname
+nscrt
+free
+escapedname
+prfree
+filename
+mimeobjectwriteseparator
+obj
+img
+imagedata
+obj
+options
+imagebegin
+urlwithfilename
+get
+ct
+obj
+options
+streamclosure
+prfree
+imageurl
+img
+imagedata
+mimeoutofmemory
+html
+obj
+options
+makeimagehtml
+img
+imagedata
+html
+mimeoutofmemory
+status
+mimeobjectwrite
+obj
+html
+strlen
+html
+prtrue
+prfree
+html
+status
+status
+obj
+options
+obj
+options
+streamclosure
+obj
+contenttype
+mimestreamdata
+msd
+mimestreamdata
+obj
+options
+streamclosure
+msd
+msd
+channel
+msd
+channel
+setcontenttype
+nsdependentcstring
+obj
+contenttype
+mimeinlineimageparseeof
+mimeobject
+obj
+prbool
+abortp
+mimeinlineimage
+img
+mimeinlineimage
+obj
+status
+obj
+closedp
+status
+mimeobjectclass
+mimesuperclass
+parseeof
+obj
+abortp
+status
+abortp
+prtrue
+img
+imagedata
+obj
+options
+imageend
+img
+imagedata
+status
+status
+abortp
+img
+imagedata
+status
+mimeinlineimageparsedecodedbuffer
+buf
+print
+size
+mimeobject
+obj
+mimeinlineimage
+img
+mimeinlineimage
+obj
+status
+obj
+outputp
+obj
+options
+obj
+options
+writehtmlp
+obj
+options
+state
+firstdatawrittenp
+status
+mimeobjectoutputinit
+obj
+status
+status
+nsassertion
+obj
+options
+state
+firstdatawrittenp
+rhp
+netscape
+mar
+mimeobjectwrite
+obj
+buf
+size
+prtrue
+obj
+options
+obj
+options
+imagewritebuffer
+img
+imagedata
+status
+obj
+options
+imagewritebuffer
+buf
+size
+img
+imagedata
+status
+obj
+options
+imageend
+img
+imagedata
+status
+img
+imagedata
+status
+status
+mimeinlineimageparseline
+line
+print
+length
+mimeobject
+obj
+nsassertion
+rhp
+netscape
+mar
\ No newline at end of file
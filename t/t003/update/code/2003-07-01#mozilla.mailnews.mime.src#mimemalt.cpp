@@ -0,0 +1,496 @@
+mimemalt
+prmem
+plstr
+prlog
+nsmimetypes
+nsmimestringresources
+nsipref
+mimemoz
+nscrt
+nsdefinecid
+kprefcid
+nsprefcid
+mimeobjectclass
+mimemultipartrelatedclass
+define
+mimesuperclass
+mimemultipartclass
+mimedefclass
+mimemultipartalternative
+mimemultipartalternativeclass
+mimemultipartalternativeclass
+mimesuperclass
+mimemultipartalternativeinitialize
+mimeobject
+mimemultipartalternativefinalize
+mimeobject
+mimemultipartalternativeparseeof
+mimeobject
+prbool
+mimemultipartalternativecreatechild
+mimeobject
+mimemultipartalternativeparsechildline
+mimeobject
+print
+prbool
+mimemultipartalternativeclosechild
+mimeobject
+prbool
+mimemultipartalternativedisplaypartp
+mimeobject
+self
+mimeheaders
+subhdrs
+mimemultipartalternativediscardcachedpart
+mimeobject
+mimemultipartalternativedisplaycachedpart
+mimeobject
+mimemultipartalternativeclassinitialize
+mimemultipartalternativeclass
+clazz
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+mimemultipartclass
+mclass
+mimemultipartclass
+clazz
+prassert
+oclass
+classinitialized
+oclass
+initialize
+mimemultipartalternativeinitialize
+oclass
+finalize
+mimemultipartalternativefinalize
+oclass
+parseeof
+mimemultipartalternativeparseeof
+mclass
+createchild
+mimemultipartalternativecreatechild
+mclass
+parsechildline
+mimemultipartalternativeparsechildline
+mclass
+closechild
+mimemultipartalternativeclosechild
+mimemultipartalternativeinitialize
+mimeobject
+obj
+mimemultipartalternative
+malt
+mimemultipartalternative
+obj
+prassert
+malt
+partbuffer
+malt
+partbuffer
+mimepartbuffercreate
+malt
+partbuffer
+mimeoutofmemory
+mimeobjectclass
+mimesuperclass
+initialize
+obj
+mimemultipartalternativecleanup
+mimeobject
+obj
+mimemultipartalternative
+malt
+mimemultipartalternative
+obj
+malt
+bufferedhdrs
+mimeheadersfree
+malt
+bufferedhdrs
+malt
+bufferedhdrs
+malt
+partbuffer
+mimepartbufferdestroy
+malt
+partbuffer
+malt
+partbuffer
+mimemultipartalternativefinalize
+mimeobject
+obj
+mimemultipartalternativecleanup
+obj
+mimeobjectclass
+mimesuperclass
+finalize
+obj
+mimemultipartalternativeparseeof
+mimeobject
+obj
+prbool
+abortp
+mimemultipartalternative
+malt
+mimemultipartalternative
+obj
+status
+obj
+closedp
+status
+mimeobjectclass
+mimesuperclass
+parseeof
+obj
+abortp
+status
+status
+malt
+bufferedhdrs
+abortp
+status
+mimemultipartalternativedisplaycachedpart
+obj
+status
+status
+mimemultipartalternativecleanup
+obj
+status
+mimemultipartalternativecreatechild
+mimeobject
+obj
+mimemultipart
+mult
+mimemultipart
+obj
+mimemultipartalternative
+malt
+mimemultipartalternative
+obj
+mimemultipartalternativedisplaypartp
+obj
+mult
+hdrs
+status
+mult
+state
+mimemultipartpartfirstline
+status
+mimemultipartalternativediscardcachedpart
+obj
+status
+status
+prassert
+malt
+bufferedhdrs
+malt
+bufferedhdrs
+mimeheaderscopy
+mult
+hdrs
+malt
+bufferedhdrs
+mimeoutofmemory
+mult
+state
+mimemultipartskippartline
+mimemultipartalternativeparsechildline
+mimeobject
+obj
+line
+print
+length
+prbool
+firstlinep
+mimemultipartalternative
+malt
+mimemultipartalternative
+obj
+prassert
+malt
+partbuffer
+malt
+partbuffer
+mimepartbufferwrite
+malt
+partbuffer
+line
+length
+mimemultipartalternativeclosechild
+mimeobject
+obj
+mimemultipart
+mult
+mimemultipart
+obj
+mimemultipartalternative
+malt
+mimemultipartalternative
+obj
+malt
+partbuffer
+mimepartbufferclose
+malt
+partbuffer
+mult
+hdrs
+mimeheadersfree
+mult
+hdrs
+mult
+hdrs
+prbool
+mimemultipartalternativedisplaypartp
+mimeobject
+self
+mimeheaders
+subhdrs
+ct
+mimeheadersget
+subhdrs
+headercontenttype
+prtrue
+prfalse
+ct
+prfalse
+nsipref
+pref
+getprefservicemanager
+self
+options
+prbool
+preferplaintext
+prfalse
+pref
+pref
+getboolpref
+mailnews
+display
+preferplaintext
+preferplaintext
+preferplaintext
+self
+options
+formatout
+nsmimeoutput
+nsmimemessagesaveas
+nscrt
+strncasecmp
+ct
+text
+html
+nscrt
+strncasecmp
+ct
+text
+enriched
+nscrt
+strncasecmp
+ct
+text
+richtext
+debug
+printf
+ignoring
+alternative
+ct
+endif
+prfalse
+debug
+printf
+considering
+alternative
+ct
+endif
+mimeobjectclass
+clazz
+mimefindclass
+ct
+subhdrs
+self
+options
+prtrue
+prbool
+result
+clazz
+clazz
+displayableinlinep
+clazz
+subhdrs
+prfalse
+prfreeif
+ct
+result
+mimemultipartalternativediscardcachedpart
+mimeobject
+obj
+mimemultipartalternative
+malt
+mimemultipartalternative
+obj
+malt
+bufferedhdrs
+mimeheadersfree
+malt
+bufferedhdrs
+malt
+bufferedhdrs
+malt
+partbuffer
+mimepartbufferreset
+malt
+partbuffer
+mimemultipartalternativedisplaycachedpart
+mimeobject
+obj
+mimemultipartalternative
+malt
+mimemultipartalternative
+obj
+status
+ct
+malt
+bufferedhdrs
+mimeheadersget
+malt
+bufferedhdrs
+headercontenttype
+prtrue
+prfalse
+dct
+mimemultipartclass
+obj
+clazz
+defaultparttype
+mimeobject
+body
+body
+mimecreate
+ct
+ct
+ct
+dct
+dct
+textplain
+malt
+bufferedhdrs
+obj
+options
+prfreeif
+ct
+body
+mimeoutofmemory
+status
+mimecontainerclass
+obj
+clazz
+addchild
+obj
+body
+status
+mimefree
+body
+status
+ifdef
+mimedrafts
+prbool
+multipartrelatedchild
+mimetypep
+obj
+parent
+mimeobjectclass
+mimemultipartrelatedclass
+prbool
+decomposefile
+obj
+options
+obj
+options
+decomposefilep
+obj
+options
+decomposefileinitfn
+mimetypep
+body
+mimeobjectclass
+mimemultipartclass
+decomposefile
+status
+obj
+options
+decomposefileinitfn
+obj
+options
+streamclosure
+malt
+bufferedhdrs
+status
+status
+endif
+status
+body
+clazz
+parsebegin
+body
+status
+status
+ifdef
+mimedrafts
+decomposefile
+multipartrelatedchild
+status
+mimepartbufferread
+malt
+partbuffer
+obj
+options
+decomposefileoutputfn
+obj
+options
+streamclosure
+endif
+status
+mimepartbufferread
+malt
+partbuffer
+nsresult
+print
+body
+clazz
+parsebuffer
+body
+status
+status
+mimemultipartalternativecleanup
+obj
+status
+body
+clazz
+parseeof
+body
+prfalse
+status
+status
+status
+body
+clazz
+parseend
+body
+prfalse
+status
+status
+ifdef
+mimedrafts
+decomposefile
+status
+obj
+options
+decomposefileclosefn
+obj
+options
+streamclosure
+status
+status
+endif
\ No newline at end of file
@@ -0,0 +1,785 @@
+nsicmsmessage
+nsicmsmessageerrors
+nsicmsdecoder
+nsihash
+mimemcms
+mimecryp
+nsmimetypes
+nspr
+nsmimestringresources
+mimemsg
+mimemoz
+nsiuri
+nsimsgwindow
+nsimsgmailnewsurl
+nsimimemiscstatus
+nsimsgsmimeheadersink
+nscomptr
+nsixcert
+define
+mimesuperclass
+mimemultipartsignedclass
+mimedefclass
+mimemultipartsignedcms
+mimemultipartsignedcmsclass
+mimemultipartsignedcmsclass
+mimesuperclass
+mimemultipartsignedcmsinitialize
+mimeobject
+mimemultcmsinit
+mimeobject
+mimemultcmsdatahash
+print
+mimemultcmssighash
+print
+mimemultcmsdataeof
+prbool
+mimemultcmssigeof
+prbool
+mimemultcmssiginit
+mimeobject
+mimeheaders
+mimemultcmsgenerate
+mimemultcmsfree
+mimemultcmsgetcontentinfo
+mimeobject
+nsicmsmessage
+print
+print
+prbool
+secerrorcertaddrmismatch
+mimemultipartsignedcmsclassinitialize
+mimemultipartsignedcmsclass
+clazz
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+mimemultipartsignedclass
+sclass
+mimemultipartsignedclass
+clazz
+oclass
+initialize
+mimemultipartsignedcmsinitialize
+sclass
+cryptoinit
+mimemultcmsinit
+sclass
+cryptodatahash
+mimemultcmsdatahash
+sclass
+cryptodataeof
+mimemultcmsdataeof
+sclass
+cryptosignatureinit
+mimemultcmssiginit
+sclass
+cryptosignaturehash
+mimemultcmssighash
+sclass
+cryptosignatureeof
+mimemultcmssigeof
+sclass
+cryptogeneratehtml
+mimemultcmsgenerate
+sclass
+cryptofree
+mimemultcmsfree
+clazz
+getcontentinfo
+mimemultcmsgetcontentinfo
+prassert
+oclass
+classinitialized
+mimemultipartsignedcmsinitialize
+mimeobject
+object
+mimeobjectclass
+mimesuperclass
+initialize
+object
+mimemultcmsdata
+print
+hashtype
+nscomptr
+nsihash
+datahashcontext
+nscomptr
+nsicmsdecoder
+sigdecodercontext
+nscomptr
+nsicmsmessage
+contentinfo
+senderaddr
+print
+decodeerror
+print
+verifyerror
+itemdata
+pruint
+itemlen
+mimeobject
+self
+prbool
+parentisencryptedp
+prbool
+parentholdsstampp
+nscomptr
+nsimsgsmimeheadersink
+smimeheadersink
+mimemultcmsdata
+hashtype
+senderaddr
+nsnull
+decodeerror
+verifyerror
+itemdata
+nsnull
+self
+nsnull
+parentisencryptedp
+prfalse
+parentholdsstampp
+prfalse
+mimemultcmsdata
+prfreeif
+senderaddr
+sigdecodercontext
+nscomptr
+nsicmsmessage
+cinfo
+sigdecodercontext
+finish
+getteraddrefs
+cinfo
+itemdata
+mimemultcmsdata
+mimemultcmsgetcontentinfo
+mimeobject
+obj
+nsicmsmessage
+contentinforet
+senderemailaddrreturn
+print
+decodeerrorret
+print
+verifyerrorret
+prbool
+ciisencrypted
+mimemultipartsigned
+msig
+mimemultipartsigned
+obj
+msig
+msig
+cryptoclosure
+mimemultcmsdata
+data
+mimemultcmsdata
+msig
+cryptoclosure
+decodeerrorret
+data
+decodeerror
+verifyerrorret
+data
+verifyerror
+contentinforet
+data
+contentinfo
+ciisencrypted
+prfalse
+senderemailaddrreturn
+senderemailaddrreturn
+data
+senderaddr
+nscrt
+strdup
+data
+senderaddr
+prbool
+mimeencryptedcmsencryptedp
+mimeobject
+obj
+prbool
+mimecmsheadersandcertsmatch
+mimeobject
+obj
+nsicmsmessage
+prbool
+signingcertwithoutemailaddress
+mimecmsmakesaurl
+mimeobject
+obj
+imapcreatereloadallpartsurl
+url
+mimegetrelativecryptonestlevel
+mimeobject
+obj
+mimemultcmsinit
+mimeobject
+obj
+mimeheaders
+hdrs
+obj
+headers
+mimemultcmsdata
+data
+ct
+micalg
+print
+hashtype
+nsresult
+rv
+ct
+mimeheadersget
+hdrs
+headercontenttype
+prfalse
+prfalse
+ct
+micalg
+mimeheadersgetparameter
+ct
+parammicalg
+prfree
+ct
+ct
+micalg
+nscrt
+strcasecmp
+micalg
+parammicalgmd
+nscrt
+strcasecmp
+micalg
+parammicalgmd
+hashtype
+nsihash
+hashalgmd
+nscrt
+strcasecmp
+micalg
+parammicalgsha
+nscrt
+strcasecmp
+micalg
+parammicalgsha
+nscrt
+strcasecmp
+micalg
+parammicalgsha
+nscrt
+strcasecmp
+micalg
+parammicalgsha
+nscrt
+strcasecmp
+micalg
+parammicalgsha
+hashtype
+nsihash
+hashalgsha
+nscrt
+strcasecmp
+micalg
+parammicalgmd
+hashtype
+nsihash
+hashalgmd
+hashtype
+nsihash
+hashalgnull
+prfree
+micalg
+micalg
+hashtype
+nsihash
+hashalgnull
+data
+mimemultcmsdata
+data
+data
+self
+obj
+data
+hashtype
+hashtype
+data
+datahashcontext
+docreateinstance
+nshashcontractid
+rv
+nsfailed
+rv
+rv
+data
+datahashcontext
+create
+data
+hashtype
+nsfailed
+rv
+prseterror
+data
+datahashcontext
+begin
+data
+decodeerror
+data
+decodeerror
+prgeterror
+data
+decodeerror
+data
+data
+parentholdsstampp
+obj
+parent
+mimecryptostampedp
+obj
+parent
+data
+parentisencryptedp
+obj
+parent
+mimeencryptedcmsencryptedp
+obj
+parent
+data
+parentisencryptedp
+data
+parentholdsstampp
+obj
+parent
+obj
+parent
+parent
+data
+parentholdsstampp
+mimecryptostampedp
+obj
+parent
+parent
+mimestreamdata
+msd
+mimestreamdata
+data
+self
+options
+streamclosure
+msd
+nsichannel
+channel
+msd
+channel
+channel
+nscomptr
+nsiuri
+uri
+nscomptr
+nsimsgwindow
+msgwindow
+nscomptr
+nsimsgheadersink
+headersink
+nscomptr
+nsimsgmailnewsurl
+msgurl
+nscomptr
+nsisupports
+securityinfo
+channel
+geturi
+getteraddrefs
+uri
+uri
+nscautostring
+urlspec
+rv
+uri
+getspec
+urlspec
+strstr
+urlspec
+get
+header
+filter
+strstr
+urlspec
+get
+header
+filter
+msgurl
+doqueryinterface
+uri
+msgurl
+msgurl
+getmsgwindow
+getteraddrefs
+msgwindow
+msgwindow
+msgwindow
+getmsgheadersink
+getteraddrefs
+headersink
+headersink
+headersink
+getsecurityinfo
+getteraddrefs
+securityinfo
+securityinfo
+data
+smimeheadersink
+doqueryinterface
+securityinfo
+data
+mimemultcmsdatahash
+buf
+print
+size
+cryptoclosure
+mimemultcmsdata
+data
+mimemultcmsdata
+cryptoclosure
+data
+data
+datahashcontext
+prseterror
+data
+datahashcontext
+update
+buf
+size
+data
+verifyerror
+data
+verifyerror
+prgeterror
+mimemultcmsdataeof
+cryptoclosure
+prbool
+abortp
+mimemultcmsdata
+data
+mimemultcmsdata
+cryptoclosure
+data
+data
+datahashcontext
+data
+datahashcontext
+resultlen
+data
+hashtype
+data
+itemlen
+data
+itemdata
+data
+itemlen
+data
+itemdata
+mimeoutofmemory
+prseterror
+data
+datahashcontext
+end
+data
+itemdata
+data
+itemlen
+data
+itemlen
+data
+verifyerror
+data
+verifyerror
+prgeterror
+data
+datahashcontext
+mimemultcmssiginit
+cryptoclosure
+mimeobject
+multipartobject
+mimeheaders
+signaturehdrs
+mimemultcmsdata
+data
+mimemultcmsdata
+cryptoclosure
+ct
+status
+nsresult
+rv
+signaturehdrs
+ct
+mimeheadersget
+signaturehdrs
+headercontenttype
+prtrue
+prfalse
+ct
+nscrt
+strcasecmp
+ct
+applicationxpkcssignature
+nscrt
+strcasecmp
+ct
+applicationpkcssignature
+status
+prfreeif
+ct
+status
+status
+data
+sigdecodercontext
+docreateinstance
+nscmsdecodercontractid
+rv
+nsfailed
+rv
+rv
+data
+sigdecodercontext
+start
+nsnull
+nsnull
+nsfailed
+rv
+status
+prgeterror
+status
+status
+status
+mimemultcmssighash
+buf
+print
+size
+cryptoclosure
+mimemultcmsdata
+data
+mimemultcmsdata
+cryptoclosure
+nsresult
+rv
+data
+data
+sigdecodercontext
+rv
+data
+sigdecodercontext
+update
+buf
+size
+nsfailed
+rv
+data
+verifyerror
+data
+verifyerror
+prgeterror
+data
+verifyerror
+data
+verifyerror
+mimemultcmssigeof
+cryptoclosure
+prbool
+abortp
+mimemultcmsdata
+data
+mimemultcmsdata
+cryptoclosure
+data
+data
+sigdecodercontext
+data
+sigdecodercontext
+finish
+getteraddrefs
+data
+contentinfo
+data
+sigdecodercontext
+data
+contentinfo
+data
+verifyerror
+data
+verifyerror
+prgeterror
+mimemultcmsfree
+cryptoclosure
+mimemultcmsdata
+data
+mimemultcmsdata
+cryptoclosure
+data
+data
+mimemultcmsgenerate
+cryptoclosure
+mimemultcmsdata
+data
+mimemultcmsdata
+cryptoclosure
+prbool
+signedp
+prtrue
+prbool
+goodp
+prfalse
+prbool
+encryptedp
+prbool
+unverifiedp
+prfalse
+nsresult
+rv
+data
+encryptedp
+data
+parentisencryptedp
+print
+signaturestatus
+nsicmsmessageerrors
+generalerror
+nscomptr
+nsixcert
+signercert
+arelativenestlevel
+mimegetrelativecryptonestlevel
+data
+self
+unverifiedp
+data
+self
+options
+missingparts
+unverifiedp
+signaturestatus
+nsicmsmessageerrors
+verifynotyetattempted
+data
+contentinfo
+rv
+data
+contentinfo
+verifydetachedsignature
+data
+itemdata
+data
+itemlen
+data
+contentinfo
+getsignercert
+getteraddrefs
+signercert
+nsfailed
+rv
+nserrormodulesecurity
+nserrorgetmodule
+rv
+signaturestatus
+nserrorgetcode
+rv
+data
+verifyerror
+data
+verifyerror
+prgeterror
+data
+verifyerror
+data
+verifyerror
+prbool
+signingcertwithoutemailaddress
+goodp
+mimecmsheadersandcertsmatch
+data
+self
+data
+contentinfo
+signingcertwithoutemailaddress
+data
+senderaddr
+goodp
+signingcertwithoutemailaddress
+signaturestatus
+nsicmsmessageerrors
+verifycertwithoutaddress
+signaturestatus
+nsicmsmessageerrors
+verifyheadermismatch
+data
+verifyerror
+data
+verifyerror
+signaturestatus
+nsicmsmessageerrors
+success
+seccmscontainscertsorcrls
+data
+contentinfo
+endif
+seccmsdestroycontentinfo
+data
+contentinfo
+data
+contentinfo
+endif
+print
+maxnestlevel
+data
+smimeheadersink
+arelativenestlevel
+data
+smimeheadersink
+maxwantednesting
+maxnestlevel
+arelativenestlevel
+maxnestlevel
+data
+smimeheadersink
+signedstatus
+arelativenestlevel
+signaturestatus
+signercert
+data
+self
+data
+self
+parent
+mimesetcryptostamp
+data
+self
+parent
+signedp
+encryptedp
+stampurl
+result
+data
+self
+unverifiedp
+data
+self
+options
+stampurl
+mimecmsmakesaurl
+data
+self
+result
+mimeheadersmakecryptostamp
+encryptedp
+signedp
+goodp
+unverifiedp
+data
+parentholdsstampp
+stampurl
+prfreeif
+stampurl
+result
\ No newline at end of file
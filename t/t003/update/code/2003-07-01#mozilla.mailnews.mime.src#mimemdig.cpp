@@ -0,0 +1,31 @@
+mimemdig
+prlog
+nsmimetypes
+define
+mimesuperclass
+mimemultipartclass
+mimedefclass
+mimemultipartdigest
+mimemultipartdigestclass
+mimemultipartdigestclass
+mimesuperclass
+mimemultipartdigestclassinitialize
+mimemultipartdigestclass
+clazz
+ifdef
+debug
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+prassert
+oclass
+classinitialized
+endif
+mimemultipartclass
+mclass
+mimemultipartclass
+clazz
+mclass
+defaultparttype
+messagerfc
\ No newline at end of file
@@ -0,0 +1,23 @@
+mimemmix
+prlog
+define
+mimesuperclass
+mimemultipartclass
+mimedefclass
+mimemultipartmixed
+mimemultipartmixedclass
+mimemultipartmixedclass
+mimesuperclass
+mimemultipartmixedclassinitialize
+mimemultipartmixedclass
+clazz
+ifdef
+debug
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+prassert
+oclass
+classinitialized
+endif
\ No newline at end of file
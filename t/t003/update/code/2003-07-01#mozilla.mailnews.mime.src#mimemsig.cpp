@@ -0,0 +1,1023 @@
+modmimee
+mimemsig
+nspr
+prmem
+plstr
+prerror
+nsmimetypes
+msgcore
+nsmimestringresources
+mimemoz
+define
+mimesuperclass
+mimemultipartclass
+mimedefclass
+mimemultipartsigned
+mimemultipartsignedclass
+mimemultipartsignedclass
+mimesuperclass
+mimemultipartsignedinitialize
+mimeobject
+mimemultipartsignedcreatechild
+mimeobject
+mimemultipartsignedclosechild
+mimeobject
+mimemultipartsignedparseline
+print
+mimeobject
+mimemultipartsignedparsechildline
+mimeobject
+print
+prbool
+mimemultipartsignedparseeof
+mimeobject
+prbool
+mimemultipartsignedfinalize
+mimeobject
+mimemultipartsignedemitchild
+mimeobject
+obj
+mimemultipartsignedclassinitialize
+mimemultipartsignedclass
+clazz
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+mimemultipartclass
+mclass
+mimemultipartclass
+clazz
+oclass
+initialize
+mimemultipartsignedinitialize
+oclass
+parseline
+mimemultipartsignedparseline
+oclass
+parseeof
+mimemultipartsignedparseeof
+oclass
+finalize
+mimemultipartsignedfinalize
+mclass
+createchild
+mimemultipartsignedcreatechild
+mclass
+parsechildline
+mimemultipartsignedparsechildline
+mclass
+closechild
+mimemultipartsignedclosechild
+prassert
+oclass
+classinitialized
+mimemultipartsignedinitialize
+mimeobject
+object
+mimemultipartsigned
+sig
+mimemultipartsigned
+object
+prassert
+object
+clazz
+mimeobjectclass
+mimemultipartsignedclass
+sig
+state
+mimemultipartsignedpreamble
+mimeobjectclass
+mimesuperclass
+initialize
+object
+mimemultipartsignedcleanup
+mimeobject
+obj
+prbool
+finalizingp
+mimemultipart
+mult
+mimemultipart
+obj
+mimemultipartsigned
+sig
+mimemultipartsigned
+obj
+sig
+partbuffer
+mimepartbufferdestroy
+sig
+partbuffer
+sig
+partbuffer
+sig
+bodyhdrs
+mimeheadersfree
+sig
+bodyhdrs
+sig
+bodyhdrs
+sig
+sighdrs
+mimeheadersfree
+sig
+sighdrs
+sig
+sighdrs
+mult
+state
+mimemultipartepilogue
+sig
+state
+mimemultipartsignedepilogue
+finalizingp
+sig
+cryptoclosure
+mimemultipartsignedclass
+obj
+clazz
+cryptofree
+sig
+cryptoclosure
+sig
+cryptoclosure
+sig
+sigdecoderdata
+mimedecoderdestroy
+sig
+sigdecoderdata
+prtrue
+sig
+sigdecoderdata
+mimemultipartsignedparseeof
+mimeobject
+obj
+prbool
+abortp
+mimemultipartsigned
+sig
+mimemultipartsigned
+obj
+status
+obj
+closedp
+sig
+state
+mimemultipartsignedsignatureheaders
+sig
+state
+mimemultipartsignedsignaturefirstline
+sig
+state
+mimemultipartsignedsignatureline
+sig
+state
+mimemultipartsignedepilogue
+status
+mimemultipartsignedclass
+obj
+clazz
+cryptosignatureeof
+sig
+cryptoclosure
+abortp
+status
+status
+abortp
+status
+mimemultipartsignedemitchild
+obj
+status
+status
+mimemultipartsignedcleanup
+obj
+prfalse
+mimeobjectclass
+mimesuperclass
+parseeof
+obj
+abortp
+mimemultipartsignedfinalize
+mimeobject
+obj
+mimemultipartsignedcleanup
+obj
+prtrue
+mimeobjectclass
+mimesuperclass
+finalize
+obj
+mimemultipartsignedparseline
+line
+print
+length
+mimeobject
+obj
+mimemultipart
+mult
+mimemultipart
+obj
+mimemultipartsigned
+sig
+mimemultipartsigned
+obj
+mimemultipartparsestate
+oldstate
+mult
+state
+prbool
+hashlinep
+prtrue
+prbool
+noheadersp
+prfalse
+status
+status
+mimeobjectclass
+mimesuperclass
+parseline
+line
+length
+obj
+status
+status
+oldstate
+mult
+state
+mult
+state
+mimemultipartpreamble
+prassert
+sig
+state
+mimemultipartsignedpreamble
+mimemultipartheaders
+hashlinep
+prfalse
+sig
+state
+mimemultipartsignedpreamble
+sig
+state
+mimemultipartsignedbodyfirstheader
+sig
+state
+mimemultipartsignedbodyfirstline
+sig
+state
+mimemultipartsignedbodyline
+sig
+state
+mimemultipartsignedsignatureheaders
+sig
+state
+mimemultipartsignedsignaturefirstline
+sig
+state
+mimemultipartsignedsignatureline
+sig
+state
+mimemultipartsignedepilogue
+mimemultipartpartfirstline
+sig
+state
+mimemultipartsignedbodyfirstheader
+sig
+state
+mimemultipartsignedbodyfirstline
+noheadersp
+prtrue
+sig
+state
+mimemultipartsignedbodyheaders
+sig
+state
+mimemultipartsignedbodyfirstline
+sig
+state
+mimemultipartsignedsignatureheaders
+sig
+state
+mimemultipartsignedsignaturefirstline
+sig
+state
+mimemultipartsignedepilogue
+mimemultipartpartline
+prassert
+sig
+state
+mimemultipartsignedbodyfirstline
+sig
+state
+mimemultipartsignedbodyline
+sig
+state
+mimemultipartsignedsignaturefirstline
+sig
+state
+mimemultipartsignedsignatureline
+sig
+state
+mimemultipartsignedbodyfirstline
+sig
+state
+mimemultipartsignedbodyline
+sig
+state
+mimemultipartsignedsignaturefirstline
+sig
+state
+mimemultipartsignedsignatureline
+mimemultipartepilogue
+sig
+state
+mimemultipartsignedepilogue
+prassert
+sig
+state
+mimemultipartsignedpreamble
+mimemultipartsignedbodyfirstline
+prassert
+mult
+hdrs
+prassert
+sig
+bodyhdrs
+sig
+bodyhdrs
+mult
+hdrs
+mult
+hdrs
+mimemultipartsignedbodyfirstheader
+mimemultipartsignedbodyheaders
+mimemultipartsignedbodyline
+sig
+cryptoclosure
+prseterror
+sig
+cryptoclosure
+mimemultipartsignedclass
+obj
+clazz
+cryptoinit
+obj
+sig
+cryptoclosure
+status
+prgeterror
+prassert
+status
+status
+status
+status
+hashlinep
+prbool
+firstlinep
+noheadersp
+sig
+state
+mimemultipartsignedbodyfirstheader
+sig
+state
+mimemultipartsignedbodyfirstheader
+sig
+state
+mimemultipartsignedbodyheaders
+length
+line
+length
+nscrt
+lf
+length
+length
+line
+length
+nscrt
+cr
+length
+prassert
+sig
+cryptoclosure
+firstlinep
+nl
+crlf
+status
+mimemultipartsignedclass
+obj
+clazz
+cryptodatahash
+nl
+sig
+cryptoclosure
+status
+status
+length
+status
+mimemultipartsignedclass
+obj
+clazz
+cryptodatahash
+line
+length
+sig
+cryptoclosure
+status
+status
+mimemultipartsignedsignatureheaders
+sig
+cryptoclosure
+oldstate
+mult
+state
+status
+mimemultipartsignedclass
+obj
+clazz
+cryptodataeof
+sig
+cryptoclosure
+prfalse
+status
+status
+mimemultipartsignedsignaturefirstline
+prassert
+mult
+hdrs
+prassert
+sig
+sighdrs
+sig
+sighdrs
+mult
+hdrs
+mult
+hdrs
+mimedecoderdata
+fn
+nsresult
+print
+nsxpidlcstring
+encoding
+encoding
+adopt
+mimeheadersget
+sig
+sighdrs
+headercontenttransferencoding
+prtrue
+prfalse
+encoding
+isempty
+nscrt
+strcasecmp
+encoding
+get
+encodingbase
+fn
+mimebdecoderinit
+nscrt
+strcasecmp
+encoding
+get
+encodingquotedprintable
+fn
+mimeqpdecoderinit
+nscrt
+strcasecmp
+encoding
+get
+encodinguuencode
+nscrt
+strcasecmp
+encoding
+get
+encodinguuencode
+nscrt
+strcasecmp
+encoding
+get
+encodinguuencode
+nscrt
+strcasecmp
+encoding
+get
+encodinguuencode
+fn
+mimeuudecoderinit
+nscrt
+strcasecmp
+encoding
+get
+encodingyencode
+fn
+mimeydecoderinit
+fn
+sig
+sigdecoderdata
+fn
+nsresult
+print
+mimemultipartsignedclass
+obj
+clazz
+cryptosignaturehash
+sig
+cryptoclosure
+sig
+sigdecoderdata
+mimeoutofmemory
+hashlinep
+status
+mimemultipartsignedclass
+obj
+clazz
+cryptosignatureinit
+sig
+cryptoclosure
+obj
+sig
+sighdrs
+status
+status
+mimemultipartsignedsignatureline
+hashlinep
+sig
+sigdecoderdata
+status
+mimedecoderwrite
+sig
+sigdecoderdata
+line
+length
+status
+mimemultipartsignedclass
+obj
+clazz
+cryptosignaturehash
+line
+length
+sig
+cryptoclosure
+status
+status
+mimemultipartsignedepilogue
+prassert
+status
+mimemultipartsignedcreatechild
+mimeobject
+parent
+mimemultipart
+mult
+mimemultipart
+parent
+mult
+state
+mimemultipartpartfirstline
+mimemultipartsignedclosechild
+mimeobject
+obj
+mimemultipart
+mult
+mimemultipart
+obj
+mimecontainer
+cont
+mimecontainer
+obj
+mimemultipartsigned
+msig
+mimemultipartsigned
+obj
+msig
+partbuffer
+mimepartbufferclose
+msig
+partbuffer
+mult
+hdrs
+mimeheadersfree
+mult
+hdrs
+mult
+hdrs
+prassert
+cont
+nchildren
+cont
+nchildren
+mimemultipartsignedparsechildline
+mimeobject
+obj
+line
+print
+length
+prbool
+firstlinep
+mimemultipartsigned
+sig
+mimemultipartsigned
+obj
+mimecontainer
+cont
+mimecontainer
+obj
+status
+prassert
+cont
+nchildren
+cont
+nchildren
+sig
+state
+mimemultipartsignedpreamble
+mimemultipartsignedbodyfirstheader
+mimemultipartsignedbodyheaders
+prassert
+mimemultipartsignedbodyfirstline
+prassert
+firstlinep
+sig
+partbuffer
+sig
+partbuffer
+mimepartbuffercreate
+sig
+partbuffer
+mimeoutofmemory
+mimemultipartsignedbodyline
+length
+line
+length
+nscrt
+lf
+length
+length
+line
+length
+nscrt
+cr
+length
+prassert
+sig
+partbuffer
+prassert
+firstlinep
+sig
+state
+mimemultipartsignedbodyfirstline
+firstlinep
+nl
+msglinebreak
+status
+mimepartbufferwrite
+sig
+partbuffer
+nl
+msglinebreaklen
+status
+status
+length
+status
+mimepartbufferwrite
+sig
+partbuffer
+line
+length
+status
+status
+mimemultipartsignedsignatureheaders
+prassert
+mimemultipartsignedsignaturefirstline
+mimemultipartsignedsignatureline
+mimemultipartsignedepilogue
+prassert
+prassert
+status
+mimemultipartsignedemitchild
+mimeobject
+obj
+mimemultipartsigned
+sig
+mimemultipartsigned
+obj
+mimemultipart
+mult
+mimemultipart
+obj
+mimecontainer
+cont
+mimecontainer
+obj
+status
+mimeobject
+body
+nsassertion
+sig
+cryptoclosure
+no
+crypto
+closure
+obj
+options
+obj
+options
+headers
+mimeheaderscitation
+obj
+options
+writehtmlp
+obj
+options
+outputfn
+obj
+options
+headers
+mimeheaderscitation
+sig
+cryptoclosure
+html
+mimemultipartsignedclass
+obj
+clazz
+cryptogeneratehtml
+sig
+cryptoclosure
+html
+status
+mimeobjectwrite
+obj
+html
+nscrt
+strlen
+html
+prfalse
+prfree
+html
+status
+status
+endif
+obj
+options
+obj
+options
+state
+obj
+options
+generatepostheaderhtmlfn
+obj
+options
+state
+postheaderhtmlrunp
+mimeheaders
+outerheaders
+nsnull
+mimeobject
+obj
+parent
+parent
+outerheaders
+headers
+prassert
+obj
+options
+state
+firstdatawrittenp
+html
+obj
+options
+generatepostheaderhtmlfn
+obj
+options
+htmlclosure
+outerheaders
+obj
+options
+state
+postheaderhtmlrunp
+prtrue
+html
+status
+mimeobjectwrite
+obj
+html
+strlen
+html
+prfalse
+prfree
+html
+status
+status
+prassert
+mult
+hdrs
+mult
+hdrs
+mimeheadersfree
+mult
+hdrs
+mult
+hdrs
+sig
+bodyhdrs
+sig
+bodyhdrs
+status
+mimemultipartclass
+mimesuperclass
+createchild
+obj
+status
+status
+obj
+options
+obj
+options
+overridecharset
+mimeobject
+firstchild
+mimecontainer
+obj
+children
+disposition
+mimeheadersget
+firstchild
+headers
+headercontentdisposition
+prtrue
+prfalse
+disposition
+contenttype
+firstchild
+contenttype
+nscrt
+strcasecmp
+contenttype
+textplain
+nscrt
+strcasecmp
+contenttype
+texthtml
+nscrt
+strcasecmp
+contenttype
+textmdl
+nscrt
+strcasecmp
+contenttype
+multipartalternative
+nscrt
+strcasecmp
+contenttype
+multipartrelated
+nscrt
+strcasecmp
+contenttype
+messagenews
+nscrt
+strcasecmp
+contenttype
+messagerfc
+ct
+mimeheadersget
+mult
+hdrs
+headercontenttype
+prfalse
+prfalse
+ct
+cset
+mimeheadersgetparameter
+ct
+charset
+cset
+mimeemitterupdatecharacterset
+obj
+options
+cset
+setmailcharactersettomsgwindow
+obj
+cset
+prfree
+cset
+prfree
+ct
+prassert
+cont
+nchildren
+cont
+nchildren
+body
+cont
+children
+prassert
+body
+body
+ifdef
+mimedrafts
+body
+options
+decomposefilep
+body
+options
+signedp
+prtrue
+mimetypep
+body
+mimeobjectclass
+mimemultipartclass
+body
+options
+decomposefileinitfn
+body
+options
+decomposefileinitfn
+body
+options
+streamclosure
+body
+headers
+endif
+sig
+partbuffer
+ifdef
+mimedrafts
+body
+options
+decomposefilep
+mimetypep
+body
+mimeobjectclass
+mimemultipartclass
+body
+options
+decomposefileoutputfn
+status
+mimepartbufferread
+sig
+partbuffer
+nsresult
+print
+body
+options
+decomposefileoutputfn
+body
+options
+streamclosure
+endif
+status
+mimepartbufferread
+sig
+partbuffer
+nsresult
+print
+body
+clazz
+parsebuffer
+body
+status
+status
+mimemultipartsignedcleanup
+obj
+prfalse
+status
+body
+clazz
+parseeof
+body
+prfalse
+status
+status
+status
+body
+clazz
+parseend
+body
+prfalse
+status
+status
+ifdef
+mimedrafts
+body
+options
+decomposefilep
+mimetypep
+body
+mimeobjectclass
+mimemultipartclass
+body
+options
+decomposefileclosefn
+body
+options
+decomposefileclosefn
+body
+options
+streamclosure
+endif
+status
+mimeobjectwriteseparator
+obj
+status
+status
\ No newline at end of file
@@ -0,0 +1,1039 @@
+msgcore
+mimemult
+mimemoz
+prlog
+prmem
+plstr
+prio
+nsmimestringresources
+nsmimetypes
+defined
+xpmac
+defined
+xpmacosx
+mimeobjectclass
+mimemultipartappledoubleclass
+endif
+define
+mimesuperclass
+mimecontainerclass
+mimedefclass
+mimemultipart
+mimemultipartclass
+mimemultipartclass
+mimesuperclass
+mimemultipartinitialize
+mimeobject
+mimemultipartfinalize
+mimeobject
+mimemultipartparseline
+line
+print
+length
+mimeobject
+mimemultipartparseeof
+mimeobject
+object
+prbool
+abortp
+mimemultipartboundarytype
+mimemultipartcheckboundary
+mimeobject
+print
+mimemultipartcreatechild
+mimeobject
+prbool
+mimemultipartoutputchildp
+mimeobject
+mimeobject
+mimemultipartparsechildline
+mimeobject
+print
+prbool
+mimemultipartclosechild
+mimeobject
+mimeobjectclass
+mimemultipartalternativeclass
+mimeobjectclass
+mimemultipartrelatedclass
+mimeobjectclass
+mimemultipartsignedclass
+mimeobjectclass
+mimeinlinetextvcardclass
+defined
+debug
+defined
+xpunix
+mimemultipartdebugprint
+mimeobject
+prfiledesc
+print
+endif
+mimemultipartclassinitialize
+mimemultipartclass
+clazz
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+mimemultipartclass
+mclass
+mimemultipartclass
+clazz
+prassert
+oclass
+classinitialized
+oclass
+initialize
+mimemultipartinitialize
+oclass
+finalize
+mimemultipartfinalize
+oclass
+parseline
+mimemultipartparseline
+oclass
+parseeof
+mimemultipartparseeof
+mclass
+checkboundary
+mimemultipartcheckboundary
+mclass
+createchild
+mimemultipartcreatechild
+mclass
+outputchildp
+mimemultipartoutputchildp
+mclass
+parsechildline
+mimemultipartparsechildline
+mclass
+closechild
+mimemultipartclosechild
+defined
+debug
+defined
+xpunix
+oclass
+debugprint
+mimemultipartdebugprint
+endif
+mimemultipartinitialize
+mimeobject
+object
+mimemultipart
+mult
+mimemultipart
+object
+ct
+prassert
+object
+clazz
+mimeobjectclass
+mimemultipartclass
+ct
+mimeheadersget
+object
+headers
+headercontenttype
+prfalse
+prfalse
+mult
+boundary
+ct
+mimeheadersgetparameter
+ct
+headerparmboundary
+prfreeif
+ct
+mult
+state
+mimemultipartpreamble
+mimeobjectclass
+mimesuperclass
+initialize
+object
+mimemultipartfinalize
+mimeobject
+object
+mimemultipart
+mult
+mimemultipart
+object
+object
+clazz
+parseeof
+object
+prfalse
+prfreeif
+mult
+boundary
+mult
+hdrs
+mimeheadersfree
+mult
+hdrs
+mult
+hdrs
+mimeobjectclass
+mimesuperclass
+finalize
+object
+mimemultipartparseline
+line
+print
+length
+mimeobject
+obj
+mimemultipart
+mult
+mimemultipart
+obj
+status
+mimemultipartboundarytype
+boundary
+prassert
+line
+line
+line
+line
+prassert
+obj
+closedp
+obj
+closedp
+obj
+outputp
+obj
+options
+obj
+options
+writehtmlp
+obj
+options
+outputfn
+mimeobjectwrite
+obj
+line
+length
+prtrue
+mult
+state
+mimemultipartepilogue
+boundary
+mimemultipartboundarytypenone
+boundary
+mimemultipartclass
+obj
+clazz
+checkboundary
+obj
+line
+length
+boundary
+mimemultipartboundarytypeterminator
+boundary
+mimemultipartboundarytypeseparator
+mult
+state
+mimemultipartpreamble
+status
+mimemultipartclass
+obj
+clazz
+closechild
+obj
+status
+status
+boundary
+mimemultipartboundarytypeterminator
+mult
+state
+mimemultipartepilogue
+mult
+state
+mimemultipartheaders
+prassert
+mult
+hdrs
+mult
+hdrs
+mimeheadersfree
+mult
+hdrs
+mult
+hdrs
+mimeheadersnew
+mult
+hdrs
+mimeoutofmemory
+mult
+state
+mimemultipartpreamble
+mimemultipartepilogue
+mimemultipartheaders
+status
+mimeheadersparseline
+line
+length
+mult
+hdrs
+status
+status
+line
+nscrt
+cr
+line
+nscrt
+lf
+status
+mimemultipartclass
+obj
+clazz
+createchild
+obj
+status
+status
+prassert
+mult
+state
+mimemultipartheaders
+prbool
+isbody
+prfalse
+prbool
+isalternative
+prfalse
+mimecontainer
+container
+mimecontainer
+obj
+container
+children
+container
+nchildren
+prbool
+isalternativeorrelated
+prfalse
+isbody
+mimeobjectchildismessagebody
+obj
+isalternativeorrelated
+isbody
+isalternativeorrelated
+mimesubclassp
+obj
+clazz
+mimeobjectclass
+mimemultipartrelatedclass
+mimeobject
+firstchild
+container
+children
+disposition
+mimeheadersget
+firstchild
+headers
+headercontentdisposition
+prtrue
+prfalse
+disposition
+nscrt
+strcasecmp
+firstchild
+contenttype
+textplain
+nscrt
+strcasecmp
+firstchild
+contenttype
+texthtml
+nscrt
+strcasecmp
+firstchild
+contenttype
+textmdl
+nscrt
+strcasecmp
+firstchild
+contenttype
+multipartalternative
+nscrt
+strcasecmp
+firstchild
+contenttype
+multipartrelated
+nscrt
+strcasecmp
+firstchild
+contenttype
+messagenews
+nscrt
+strcasecmp
+firstchild
+contenttype
+messagerfc
+isbody
+prtrue
+isalternative
+mimesubclassp
+obj
+clazz
+mimeobjectclass
+mimemultipartalternativeclass
+obj
+options
+isalternative
+mult
+state
+mimemultipartskippartline
+isbody
+ct
+mimeheadersget
+mult
+hdrs
+headercontenttype
+prfalse
+prfalse
+ct
+cset
+mimeheadersgetparameter
+ct
+charset
+cset
+mimeemitterupdatecharacterset
+obj
+options
+cset
+obj
+options
+overridecharset
+setmailcharactersettomsgwindow
+obj
+cset
+prfreeif
+ct
+prfreeif
+cset
+mimemultipartpartfirstline
+status
+mimemultipartclass
+obj
+clazz
+parsechildline
+obj
+line
+length
+prtrue
+status
+status
+mult
+state
+mimemultipartpartline
+mimemultipartpartline
+status
+mimemultipartclass
+obj
+clazz
+parsechildline
+obj
+line
+length
+prfalse
+status
+status
+mimemultipartskippartline
+prassert
+mimemultipartboundarytype
+mimemultipartcheckboundary
+mimeobject
+obj
+line
+print
+length
+mimemultipart
+mult
+mimemultipart
+obj
+print
+blen
+prbool
+termp
+mult
+boundary
+line
+line
+mimemultipartboundarytypenone
+blen
+strlen
+mult
+boundary
+termp
+prfalse
+length
+nscrt
+isasciispace
+line
+length
+length
+length
+blen
+line
+length
+line
+length
+termp
+prtrue
+mimecontainer
+cont
+mimecontainer
+obj
+cont
+nchildren
+mimeobject
+kid
+cont
+children
+cont
+nchildren
+kid
+mimetypep
+kid
+mimeobjectclass
+mimemultipartclass
+mimemultipart
+mult
+mimemultipart
+kid
+mult
+state
+mimemultipartepilogue
+mimemultipartcheckboundary
+kid
+line
+length
+mimemultipartboundarytypenone
+mimemultipartboundarytypenone
+termp
+length
+blen
+length
+strncmp
+line
+mult
+boundary
+length
+termp
+mimemultipartboundarytypeterminator
+mimemultipartboundarytypeseparator
+mimemultipartboundarytypenone
+mimemultipartcreatechild
+mimeobject
+obj
+mimemultipart
+mult
+mimemultipart
+obj
+status
+ct
+mult
+hdrs
+mimeheadersget
+mult
+hdrs
+headercontenttype
+prtrue
+prfalse
+dct
+mimemultipartclass
+obj
+clazz
+defaultparttype
+mimeobject
+body
+mult
+state
+mimemultipartpartfirstline
+body
+mimecreate
+ct
+ct
+ct
+dct
+dct
+textplain
+mult
+hdrs
+obj
+options
+prfreeif
+ct
+body
+mimeoutofmemory
+status
+mimecontainerclass
+obj
+clazz
+addchild
+obj
+body
+status
+mimefree
+body
+status
+ifdef
+mimedrafts
+obj
+options
+obj
+options
+decomposefilep
+obj
+options
+ismultipartmsg
+obj
+options
+decomposefileinitfn
+mimetypep
+obj
+mimeobjectclass
+mimemultipartrelatedclass
+mimetypep
+obj
+mimeobjectclass
+mimemultipartalternativeclass
+mimetypep
+obj
+mimeobjectclass
+mimemultipartsignedclass
+ifdef
+mimedetailcheck
+mimetypep
+body
+mimeobjectclass
+mimemultipartrelatedclass
+mimetypep
+body
+mimeobjectclass
+mimemultipartalternativeclass
+mimetypep
+body
+mimeobjectclass
+mimemultipartsignedclass
+mimetypep
+body
+mimeobjectclass
+mimemultipartclass
+endif
+ifdef
+richievcard
+mimetypep
+body
+mimeobjectclass
+mimeinlinetextvcardclass
+endif
+status
+obj
+options
+decomposefileinitfn
+obj
+options
+streamclosure
+mult
+hdrs
+status
+status
+endif
+body
+outputp
+mimemultipartclass
+obj
+clazz
+outputchildp
+obj
+body
+body
+outputp
+status
+body
+clazz
+parsebegin
+body
+defined
+xpmac
+defined
+xpmacosx
+mimetypep
+obj
+mimeobjectclass
+mimemultipartappledoubleclass
+mimestreamdata
+msd
+mimestreamdata
+body
+options
+streamclosure
+body
+options
+writehtmlp
+body
+contenttype
+nscrt
+strcasecmp
+body
+contenttype
+applicationapplefile
+msd
+msd
+channel
+msd
+channel
+setcontenttype
+nsliteralcstring
+applicationapplefile
+endif
+status
+status
+prbool
+mimemultipartoutputchildp
+mimeobject
+obj
+mimeobject
+child
+obj
+options
+writehtmlp
+nscrt
+strcasecmp
+child
+contenttype
+multipartappledouble
+mimemultipartclosechild
+mimeobject
+object
+mimemultipart
+mult
+mimemultipart
+object
+mimecontainer
+cont
+mimecontainer
+object
+mult
+hdrs
+mimeheadersfree
+mult
+hdrs
+mult
+hdrs
+prassert
+cont
+nchildren
+cont
+nchildren
+mimeobject
+kid
+cont
+children
+cont
+nchildren
+kid
+status
+status
+kid
+clazz
+parseeof
+kid
+prfalse
+status
+status
+status
+kid
+clazz
+parseend
+kid
+prfalse
+status
+status
+ifdef
+mimedrafts
+object
+options
+object
+options
+decomposefilep
+object
+options
+ismultipartmsg
+object
+options
+decomposefileclosefn
+mimetypep
+object
+mimeobjectclass
+mimemultipartrelatedclass
+mimetypep
+object
+mimeobjectclass
+mimemultipartalternativeclass
+mimetypep
+object
+mimeobjectclass
+mimemultipartsignedclass
+ifdef
+mimedetailcheck
+mimetypep
+kid
+mimeobjectclass
+mimemultipartrelatedclass
+mimetypep
+kid
+mimeobjectclass
+mimemultipartalternativeclass
+mimetypep
+kid
+mimeobjectclass
+mimemultipartsignedclass
+mimetypep
+kid
+mimeobjectclass
+mimemultipartclass
+endif
+ifdef
+richievcard
+mimetypep
+kid
+mimeobjectclass
+mimeinlinetextvcardclass
+endif
+status
+object
+options
+decomposefileclosefn
+object
+options
+streamclosure
+status
+status
+endif
+mimemultipartparsechildline
+mimeobject
+obj
+line
+print
+length
+prbool
+firstlinep
+mimecontainer
+cont
+mimecontainer
+obj
+status
+mimeobject
+kid
+prassert
+cont
+nchildren
+cont
+nchildren
+kid
+cont
+children
+cont
+nchildren
+prassert
+kid
+kid
+ifdef
+mimedrafts
+obj
+options
+obj
+options
+decomposefilep
+obj
+options
+ismultipartmsg
+obj
+options
+decomposefileoutputfn
+mimetypep
+obj
+mimeobjectclass
+mimemultipartalternativeclass
+mimetypep
+obj
+mimeobjectclass
+mimemultipartrelatedclass
+mimetypep
+obj
+mimeobjectclass
+mimemultipartsignedclass
+ifdef
+mimedetailcheck
+mimetypep
+kid
+mimeobjectclass
+mimemultipartalternativeclass
+mimetypep
+kid
+mimeobjectclass
+mimemultipartrelatedclass
+mimetypep
+kid
+mimeobjectclass
+mimemultipartsignedclass
+mimetypep
+kid
+mimeobjectclass
+mimemultipartclass
+endif
+ifdef
+richievcard
+mimetypep
+kid
+mimeobjectclass
+mimeinlinetextvcardclass
+endif
+obj
+options
+decomposefileoutputfn
+line
+length
+obj
+options
+streamclosure
+endif
+length
+line
+length
+nscrt
+lf
+length
+length
+line
+length
+nscrt
+cr
+length
+firstlinep
+nl
+msglinebreak
+status
+kid
+clazz
+parsebuffer
+nl
+msglinebreaklen
+kid
+status
+status
+kid
+clazz
+parsebuffer
+line
+length
+kid
+mimemultipartparseeof
+mimeobject
+obj
+prbool
+abortp
+mimemultipart
+mult
+mimemultipart
+obj
+mimecontainer
+cont
+mimecontainer
+obj
+obj
+closedp
+abortp
+obj
+ibufferfp
+status
+obj
+clazz
+parsebuffer
+obj
+ibuffer
+obj
+ibufferfp
+obj
+obj
+ibufferfp
+status
+obj
+closedp
+prtrue
+status
+cont
+nchildren
+mult
+state
+mimemultipartpartline
+mult
+state
+mimemultipartpartfirstline
+mimeobject
+kid
+cont
+children
+cont
+nchildren
+prassert
+kid
+kid
+status
+kid
+clazz
+parseeof
+kid
+abortp
+status
+status
+mimeobjectclass
+mimesuperclass
+parseeof
+obj
+abortp
+defined
+debug
+defined
+xpunix
+mimemultipartdebugprint
+mimeobject
+obj
+prfiledesc
+stream
+print
+depth
+mimecontainer
+cont
+mimecontainer
+obj
+addr
+mimepartaddress
+obj
+depth
+prwrite
+stream
+prfreeif
+addr
+cont
+nchildren
+mimeobject
+kid
+cont
+children
+status
+kid
+clazz
+debugprint
+kid
+stream
+depth
+status
+status
+endif
\ No newline at end of file
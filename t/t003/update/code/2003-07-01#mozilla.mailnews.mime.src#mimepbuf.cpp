@@ -0,0 +1,355 @@
+nscomptr
+mimepbuf
+mimemoz
+prmem
+prio
+plstr
+nscrt
+nsmimestringresources
+nsfilespec
+nsfilestream
+nsfilespec
+nsmsgcreatetempfilespec
+tfilename
+define
+targetmemorybuffersize
+define
+targetmemorybufferquantum
+define
+diskbuffersize
+mimepartbufferdata
+partbuffer
+print
+partbufferfp
+print
+partbuffersize
+nsfilespec
+filebufferspec
+nsinputfilestream
+inputfilestream
+nsoutputfilestream
+outputfilestream
+mimepartbufferdata
+mimepartbuffercreate
+mimepartbufferdata
+data
+prnew
+mimepartbufferdata
+data
+memset
+data
+data
+data
+mimepartbufferclose
+mimepartbufferdata
+data
+nsassertion
+data
+mimepartbufferclose
+no
+data
+data
+data
+inputfilestream
+data
+inputfilestream
+close
+data
+inputfilestream
+data
+inputfilestream
+nsnull
+data
+outputfilestream
+data
+outputfilestream
+close
+data
+outputfilestream
+data
+outputfilestream
+nsnull
+mimepartbufferreset
+mimepartbufferdata
+data
+nsassertion
+data
+mimepartbufferreset
+no
+data
+data
+prfreeif
+data
+partbuffer
+data
+partbufferfp
+data
+inputfilestream
+data
+inputfilestream
+close
+data
+inputfilestream
+data
+inputfilestream
+nsnull
+data
+outputfilestream
+data
+outputfilestream
+close
+data
+outputfilestream
+data
+outputfilestream
+nsnull
+data
+filebufferspec
+data
+filebufferspec
+delete
+prfalse
+data
+filebufferspec
+data
+filebufferspec
+nsnull
+mimepartbufferdestroy
+mimepartbufferdata
+data
+nsassertion
+data
+mimepartbufferdestroy
+no
+data
+data
+mimepartbufferreset
+data
+prfree
+data
+mimepartbufferwrite
+mimepartbufferdata
+data
+buf
+print
+size
+status
+nsassertion
+data
+buf
+size
+mimepartbufferwrite
+bad
+param
+data
+buf
+size
+data
+partbuffer
+data
+filebufferspec
+targetsize
+targetmemorybuffersize
+targetsize
+data
+partbuffer
+prmalloc
+targetsize
+data
+partbuffer
+targetsize
+targetmemorybufferquantum
+data
+partbuffer
+data
+partbuffersize
+targetsize
+data
+partbuffersize
+data
+partbufferfp
+data
+partbuffer
+data
+filebufferspec
+data
+filebufferspec
+nsmsgcreatetempfilespec
+nsma
+data
+filebufferspec
+mimeoutofmemory
+data
+outputfilestream
+nsoutputfilestream
+data
+filebufferspec
+prwronly
+prcreatefile
+data
+outputfilestream
+mimeunabletoopentmpfile
+nsassertion
+data
+partbuffer
+data
+outputfilestream
+no
+partbuffer
+filestream
+data
+partbuffer
+data
+partbufferfp
+size
+data
+partbuffersize
+memcpy
+data
+partbuffer
+data
+partbufferfp
+buf
+size
+data
+partbufferfp
+size
+data
+outputfilestream
+data
+filebufferspec
+data
+filebufferspec
+nsmsgcreatetempfilespec
+nsma
+data
+filebufferspec
+mimeoutofmemory
+data
+outputfilestream
+nsoutputfilestream
+data
+filebufferspec
+prwronly
+prcreatefile
+data
+outputfilestream
+mimeunabletoopentmpfile
+data
+partbuffer
+data
+partbufferfp
+status
+data
+outputfilestream
+write
+data
+partbuffer
+data
+partbufferfp
+status
+data
+partbufferfp
+mimeoutofmemory
+prfreeif
+data
+partbuffer
+data
+partbufferfp
+data
+partbuffersize
+status
+data
+outputfilestream
+write
+buf
+size
+status
+size
+mimeoutofmemory
+mimepartbufferread
+mimepartbufferdata
+data
+nsresult
+readfn
+buf
+print
+size
+closure
+closure
+status
+nsassertion
+data
+no
+data
+data
+data
+partbuffer
+status
+readfn
+data
+partbuffer
+data
+partbufferfp
+closure
+data
+filebufferspec
+buf
+print
+bufsize
+diskbuffersize
+nsassertion
+data
+partbuffersize
+data
+partbufferfp
+buffer
+size
+is
+nsassertion
+data
+filebufferspec
+no
+file
+buffer
+name
+data
+filebufferspec
+buf
+prmalloc
+bufsize
+buf
+mimeoutofmemory
+data
+outputfilestream
+data
+outputfilestream
+close
+data
+inputfilestream
+nsinputfilestream
+data
+filebufferspec
+data
+inputfilestream
+prfree
+buf
+mimeunabletoopentmpfile
+print
+rstatus
+data
+inputfilestream
+read
+buf
+bufsize
+rstatus
+status
+rstatus
+status
+readfn
+buf
+rstatus
+closure
+status
+prfree
+buf
\ No newline at end of file
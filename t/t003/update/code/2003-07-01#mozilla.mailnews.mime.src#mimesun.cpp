@@ -0,0 +1,522 @@
+mimesun
+prmem
+plstr
+prlog
+nsmimetypes
+msgcore
+nsmimestringresources
+define
+mimesuperclass
+mimemultipartclass
+mimedefclass
+mimesunattachment
+mimesunattachmentclass
+mimesunattachmentclass
+mimesuperclass
+mimemultipartboundarytype
+mimesunattachmentcheckboundary
+mimeobject
+print
+mimesunattachmentcreatechild
+mimeobject
+mimesunattachmentparsechildline
+mimeobject
+print
+prbool
+mimesunattachmentparsebegin
+mimeobject
+mimesunattachmentparseeof
+mimeobject
+prbool
+mimesunattachmentclassinitialize
+mimesunattachmentclass
+clazz
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+mimemultipartclass
+mclass
+mimemultipartclass
+clazz
+prassert
+oclass
+classinitialized
+oclass
+parsebegin
+mimesunattachmentparsebegin
+oclass
+parseeof
+mimesunattachmentparseeof
+mclass
+checkboundary
+mimesunattachmentcheckboundary
+mclass
+createchild
+mimesunattachmentcreatechild
+mclass
+parsechildline
+mimesunattachmentparsechildline
+mimesunattachmentparsebegin
+mimeobject
+obj
+status
+mimeobjectclass
+mimesuperclass
+parsebegin
+obj
+status
+status
+mimeobjectwriteseparator
+obj
+mimesunattachmentparseeof
+mimeobject
+obj
+prbool
+abortp
+status
+status
+mimeobjectclass
+mimesuperclass
+parseeof
+obj
+abortp
+status
+status
+abortp
+status
+mimeobjectwriteseparator
+obj
+status
+status
+mimemultipartboundarytype
+mimesunattachmentcheckboundary
+mimeobject
+obj
+line
+print
+length
+line
+line
+line
+line
+line
+line
+line
+line
+line
+line
+line
+line
+nscrt
+cr
+line
+nscrt
+lf
+mimemultipartboundarytypeseparator
+mimemultipartboundarytypenone
+mimesunattachmentcreatechild
+mimeobject
+obj
+mimemultipart
+mult
+mimemultipart
+obj
+status
+sundatatype
+mimect
+sunencinfo
+mimecte
+mimect
+mimeobject
+child
+mult
+state
+mimemultipartpartline
+sundatatype
+mult
+hdrs
+mimeheadersget
+mult
+hdrs
+headerxsundatatype
+prtrue
+prfalse
+sundatatype
+in
+out
+suntypes
+textplain
+doc
+textplain
+text
+textplain
+scribe
+textplain
+sgml
+textplain
+tex
+textplain
+troff
+textplain
+file
+textplain
+file
+textplain
+readme
+file
+textplain
+shell
+script
+textplain
+cshell
+script
+textplain
+makefile
+textplain
+hidden
+docs
+textplain
+message
+messagerfc
+mail
+message
+messagerfc
+mail
+file
+textplain
+gif
+file
+imagegif
+jpeg
+file
+imagejpg
+ppm
+file
+imageppm
+pgm
+file
+image
+portable
+graymap
+pbm
+file
+image
+portable
+bitmap
+xpm
+file
+image
+xpixmap
+ilbm
+file
+image
+ilbm
+tiff
+file
+image
+tiff
+photocd
+file
+image
+photo
+cd
+sun
+raster
+image
+sun
+raster
+audio
+file
+audiobasic
+postscript
+applicationpostscript
+postscript
+file
+applicationpostscript
+framemaker
+document
+application
+framemaker
+sundraw
+document
+application
+sun
+draw
+sunpaint
+document
+application
+sun
+paint
+sunwrite
+document
+application
+sun
+write
+islanddraw
+document
+application
+island
+draw
+islandpaint
+document
+application
+island
+paint
+islandwrite
+document
+application
+island
+write
+sun
+executable
+applicationoctetstream
+app
+applicationoctetstream
+suntypes
+in
+nscrt
+strcasecmp
+sundatatype
+suntypes
+in
+mimect
+suntypes
+out
+mimect
+obj
+options
+obj
+options
+filetypefn
+name
+mimeheadersgetname
+mult
+hdrs
+obj
+options
+name
+mimect
+obj
+options
+filetypefn
+name
+obj
+options
+streamclosure
+mimect
+mimect
+prfree
+name
+mimect
+nscrt
+strcasecmp
+mimect
+unknowncontenttype
+prfreeif
+mimect
+mimect
+applicationoctetstream
+mimect
+mimect
+applicationoctetstream
+prfreeif
+sundatatype
+sundatatype
+mult
+hdrs
+mimeheadersget
+mult
+hdrs
+headerxsunencodinginfo
+prfalse
+prfalse
+sunencinfo
+sundatatype
+sunencinfo
+nscrt
+strncasecmp
+sunencinfo
+adpcm
+compress
+sunencinfo
+nscrt
+isasciispace
+sunencinfo
+sunencinfo
+sunencinfo
+sunencinfo
+sunencinfo
+prev
+end
+plstrrchr
+sunencinfo
+end
+start
+sunencinfo
+sunencinfo
+end
+nscrt
+isasciispace
+sunencinfo
+sunencinfo
+prev
+end
+prev
+start
+prev
+prev
+prev
+prev
+nscrt
+strncasecmp
+prev
+uuencode
+end
+prev
+mimect
+applicationuuencode
+nscrt
+strncasecmp
+prev
+gzip
+end
+prev
+mimect
+applicationgzip
+nscrt
+strncasecmp
+prev
+compress
+end
+prev
+mimect
+applicationcompress
+nscrt
+strncasecmp
+prev
+compress
+end
+prev
+mimect
+applicationcompress
+mimect
+applicationoctetstream
+sunencinfo
+sunencinfo
+nscrt
+strcasecmp
+sunencinfo
+compress
+mimecte
+encodingcompress
+nscrt
+strcasecmp
+sunencinfo
+uuencode
+mimecte
+encodinguuencode
+nscrt
+strcasecmp
+sunencinfo
+gzip
+mimecte
+encodinggzip
+mimect
+applicationoctetstream
+prfreeif
+sundatatype
+child
+mimecreate
+mimect
+mult
+hdrs
+obj
+options
+child
+status
+mimeoutofmemory
+fail
+prfreeif
+child
+contenttype
+prfreeif
+child
+encoding
+prassert
+mimect
+child
+contenttype
+mimect
+nscrt
+strdup
+mimect
+child
+encoding
+mimecte
+nscrt
+strdup
+mimecte
+status
+mimecontainerclass
+obj
+clazz
+addchild
+obj
+child
+status
+mimefree
+child
+child
+fail
+status
+mimeobjectwriteseparator
+obj
+status
+fail
+status
+child
+clazz
+parsebegin
+child
+status
+fail
+fail
+prfreeif
+mimect
+prfreeif
+sundatatype
+status
+mimesunattachmentparsechildline
+mimeobject
+obj
+line
+print
+length
+prbool
+firstlinep
+mimecontainer
+cont
+mimecontainer
+obj
+mimeobject
+kid
+prassert
+cont
+nchildren
+cont
+nchildren
+kid
+cont
+children
+cont
+nchildren
+prassert
+kid
+kid
+kid
+clazz
+parsebuffer
+line
+length
+kid
\ No newline at end of file
@@ -0,0 +1,211 @@
+mimethpl
+prlog
+msgcore
+mimemoz
+nsstring
+nsreadableutils
+nsidocumentencoder
+define
+mimesuperclass
+mimeinlinetextplainclass
+mimedefclass
+mimeinlinetexthtmlasplaintext
+mimeinlinetexthtmlasplaintextclass
+mimeinlinetexthtmlasplaintextclass
+mimesuperclass
+mimeinlinetexthtmlasplaintextparseline
+print
+mimeobject
+mimeinlinetexthtmlasplaintextparsebegin
+mimeobject
+obj
+mimeinlinetexthtmlasplaintextparseeof
+mimeobject
+prbool
+mimeinlinetexthtmlasplaintextfinalize
+mimeobject
+obj
+mimeinlinetexthtmlasplaintextclassinitialize
+mimeinlinetexthtmlasplaintextclass
+clazz
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+nsassertion
+oclass
+classinitialized
+problem
+with
+superclass
+oclass
+parseline
+mimeinlinetexthtmlasplaintextparseline
+oclass
+parsebegin
+mimeinlinetexthtmlasplaintextparsebegin
+oclass
+parseeof
+mimeinlinetexthtmlasplaintextparseeof
+oclass
+finalize
+mimeinlinetexthtmlasplaintextfinalize
+mimeinlinetexthtmlasplaintextparsebegin
+mimeobject
+obj
+mimeinlinetexthtmlasplaintext
+texthtmlplain
+mimeinlinetexthtmlasplaintext
+obj
+texthtmlplain
+completebuffer
+nsstring
+mimeobjectclass
+mimesuperclass
+parsebegin
+obj
+mimeinlinetexthtmlasplaintextparseeof
+mimeobject
+obj
+prbool
+abortp
+obj
+closedp
+status
+mimeobjectclass
+mimesuperclass
+superclass
+parseeof
+obj
+abortp
+status
+status
+mimeinlinetexthtmlasplaintext
+texthtmlplain
+mimeinlinetexthtmlasplaintext
+obj
+texthtmlplain
+texthtmlplain
+completebuffer
+nsstring
+cb
+texthtmlplain
+completebuffer
+nsstring
+asplaintext
+pruint
+flags
+nsidocumentencoder
+outputformatted
+nsidocumentencoder
+outputwrap
+nsidocumentencoder
+outputformatflowed
+nsidocumentencoder
+outputlflinebreak
+nsidocumentencoder
+outputnoscriptcontent
+nsidocumentencoder
+outputnoframescontent
+nsidocumentencoder
+outputbodyonly
+htmlplaintext
+cb
+asplaintext
+flags
+nscautostring
+resultcstr
+nsconvertucstoutf
+asplaintext
+status
+mimeobjectclass
+mimesuperclass
+parseline
+nsconstcast
+resultcstr
+get
+resultcstr
+length
+obj
+cb
+truncate
+status
+status
+prbool
+saveclosedp
+obj
+closedp
+obj
+closedp
+prfalse
+status
+mimeobjectclass
+mimesuperclass
+parseeof
+obj
+abortp
+obj
+closedp
+saveclosedp
+status
+mimeinlinetexthtmlasplaintextfinalize
+mimeobject
+obj
+mimeinlinetexthtmlasplaintext
+texthtmlplain
+mimeinlinetexthtmlasplaintext
+obj
+texthtmlplain
+texthtmlplain
+completebuffer
+obj
+clazz
+parseeof
+obj
+prfalse
+texthtmlplain
+completebuffer
+texthtmlplain
+completebuffer
+mimeobjectclass
+mimesuperclass
+finalize
+obj
+mimeinlinetexthtmlasplaintextparseline
+line
+print
+length
+mimeobject
+obj
+mimeinlinetexthtmlasplaintext
+texthtmlplain
+mimeinlinetexthtmlasplaintext
+obj
+texthtmlplain
+texthtmlplain
+completebuffer
+debug
+printf
+can
+output
+line
+endif
+nscstring
+linestr
+line
+length
+nsconvertutftoucs
+lineucs
+linestr
+get
+length
+lineucs
+isempty
+lineucs
+assignwithconversion
+linestr
+get
+texthtmlplain
+completebuffer
+append
+lineucs
\ No newline at end of file
@@ -0,0 +1,378 @@
+mimethsa
+prmem
+prlog
+msgcore
+mimemoz
+nsstring
+nsreadableutils
+define
+mimesuperclass
+mimeinlinetexthtmlclass
+mimedefclass
+mimeinlinetexthtmlsanitized
+mimeinlinetexthtmlsanitizedclass
+mimeinlinetexthtmlsanitizedclass
+mimesuperclass
+mimeinlinetexthtmlsanitizedparseline
+print
+mimeobject
+mimeinlinetexthtmlsanitizedparsebegin
+mimeobject
+obj
+mimeinlinetexthtmlsanitizedparseeof
+mimeobject
+prbool
+mimeinlinetexthtmlsanitizedfinalize
+mimeobject
+obj
+mimeinlinetexthtmlsanitizedclassinitialize
+mimeinlinetexthtmlsanitizedclass
+clazz
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+nsassertion
+oclass
+classinitialized
+problem
+with
+superclass
+oclass
+parseline
+mimeinlinetexthtmlsanitizedparseline
+oclass
+parsebegin
+mimeinlinetexthtmlsanitizedparsebegin
+oclass
+parseeof
+mimeinlinetexthtmlsanitizedparseeof
+oclass
+finalize
+mimeinlinetexthtmlsanitizedfinalize
+mimeinlinetexthtmlsanitizedparsebegin
+mimeobject
+obj
+ifdef
+debugbenb
+printf
+parsebegin
+endif
+mimeinlinetexthtmlsanitized
+texthtmlsan
+mimeinlinetexthtmlsanitized
+obj
+texthtmlsan
+completebuffer
+nsstring
+ifdef
+debugbenb
+printf
+printf
+cbp
+texthtmlsan
+completebuffer
+endif
+status
+mimeobjectclass
+mimesuperclass
+parsebegin
+obj
+status
+status
+ifdef
+debugbenb
+printf
+endif
+contenttype
+obj
+headers
+mimeheadersget
+obj
+headers
+headercontenttype
+prfalse
+prfalse
+contenttype
+charset
+mimeheadersgetparameter
+contenttype
+headerparmcharset
+prfree
+contenttype
+charset
+nscautostring
+charsetline
+meta
+equiv
+context
+type
+content
+text
+html
+charset
+charsetline
+charset
+charsetline
+status
+mimeobjectwrite
+obj
+nsconstcast
+charsetline
+get
+charsetline
+length
+prtrue
+prfree
+charset
+status
+status
+ifdef
+debugbenb
+printf
+parsebegin
+endif
+mimeinlinetexthtmlsanitizedparseeof
+mimeobject
+obj
+prbool
+abortp
+ifdef
+debugbenb
+printf
+parseeof
+endif
+obj
+closedp
+status
+mimeobjectclass
+mimesuperclass
+parseeof
+obj
+abortp
+status
+status
+mimeinlinetexthtmlsanitized
+texthtmlsan
+mimeinlinetexthtmlsanitized
+obj
+ifdef
+debugbenb
+printf
+cbp
+texthtmlsan
+completebuffer
+printf
+closedp
+obj
+closedp
+endif
+texthtmlsan
+texthtmlsan
+completebuffer
+ifdef
+debugbenb
+printf
+parseeof
+early
+exit
+endif
+ifdef
+debugbenb
+printf
+printf
+buffer
+nslossyconvertucstoascii
+texthtmlsan
+completebuffer
+get
+endif
+allowedtags
+nsipref
+prefs
+getprefservicemanager
+obj
+options
+prefs
+prefs
+copycharpref
+mailnews
+display
+htmlsanitizer
+allowedtags
+allowedtags
+ifdef
+debugbenb
+printf
+endif
+nsstring
+cb
+texthtmlsan
+completebuffer
+ifdef
+debugbenb
+printf
+endif
+nsstring
+sanitized
+ifdef
+debugbenb
+printf
+endif
+htmlsanitize
+cb
+sanitized
+nsconvertasciitoucs
+allowedtags
+ifdef
+debugbenb
+printf
+endif
+nscautostring
+resultcstr
+nsconvertucstoutf
+sanitized
+ifdef
+debugbenb
+printf
+endif
+status
+mimeobjectclass
+mimesuperclass
+parseline
+nsconstcast
+resultcstr
+get
+resultcstr
+length
+obj
+ifdef
+debugbenb
+printf
+endif
+ifdef
+debugbenb
+printf
+endif
+cb
+truncate
+ifdef
+debugbenb
+printf
+parseeof
+endif
+status
+mimeinlinetexthtmlsanitizedfinalize
+mimeobject
+obj
+ifdef
+debugbenb
+printf
+finalize
+endif
+mimeinlinetexthtmlsanitized
+texthtmlsan
+mimeinlinetexthtmlsanitized
+obj
+ifdef
+debugbenb
+printf
+cbp
+texthtmlsan
+completebuffer
+printf
+endif
+texthtmlsan
+texthtmlsan
+completebuffer
+obj
+clazz
+parseeof
+obj
+prfalse
+ifdef
+debugbenb
+printf
+endif
+texthtmlsan
+completebuffer
+ifdef
+debugbenb
+printf
+cbp
+texthtmlsan
+completebuffer
+printf
+endif
+texthtmlsan
+completebuffer
+ifdef
+debugbenb
+printf
+cbp
+texthtmlsan
+completebuffer
+printf
+endif
+mimeobjectclass
+mimesuperclass
+finalize
+obj
+ifdef
+debugbenb
+printf
+finalize
+endif
+mimeinlinetexthtmlsanitizedparseline
+line
+print
+length
+mimeobject
+obj
+ifdef
+debugbenb
+printf
+endif
+mimeinlinetexthtmlsanitized
+texthtmlsan
+mimeinlinetexthtmlsanitized
+obj
+ifdef
+debugbenb
+printf
+texthtmlsan
+completebuffer
+endif
+texthtmlsan
+texthtmlsan
+completebuffer
+ifdef
+debug
+printf
+can
+output
+line
+endif
+nscstring
+linestr
+line
+length
+nsconvertutftoucs
+lineucs
+linestr
+get
+length
+lineucs
+isempty
+lineucs
+assignwithconversion
+linestr
+get
+texthtmlsan
+completebuffer
+append
+lineucs
+ifdef
+debugbenb
+printf
+endif
\ No newline at end of file
@@ -0,0 +1,837 @@
+mimetpfl
+mimebuf
+prmem
+plstr
+mozitxttohtmlconv
+nsstring
+nsreadableutils
+nsmimestringresources
+nsipref
+nsiservicemanager
+mimemoz
+prprf
+nsmsgin
+nsdefinecid
+kprefcid
+nsprefcid
+pruint
+kspacesforatab
+pruint
+kinitialbuffersize
+define
+mimesuperclass
+mimeinlinetextclass
+mimedefclass
+mimeinlinetextplainflowed
+mimeinlinetextplainflowedclass
+mimeinlinetextplainflowedclass
+mimesuperclass
+mimeinlinetextplainflowedparsebegin
+mimeobject
+mimeinlinetextplainflowedparseline
+print
+mimeobject
+mimeinlinetextplainflowedparseeof
+mimeobject
+prbool
+mimeinlinetextplainflowedexdata
+mimeinlinetextplainflowedexdatalist
+nsnull
+mimetextbuildprefixcss
+print
+quotedsizesetting
+print
+quotedstylesetting
+citationcolor
+nsresult
+lineconvertwhitespace
+nsstring
+aline
+prbool
+aconvertallwhitespace
+nsstring
+aoutline
+mimeinlinetextplainflowedclassinitialize
+mimeinlinetextplainflowedclass
+clazz
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+nsassertion
+oclass
+classinitialized
+initialized
+oclass
+parsebegin
+mimeinlinetextplainflowedparsebegin
+oclass
+parseline
+mimeinlinetextplainflowedparseline
+oclass
+parseeof
+mimeinlinetextplainflowedparseeof
+mimeinlinetextplainflowedparsebegin
+mimeobject
+obj
+status
+mimeobjectclass
+mimesuperclass
+parsebegin
+obj
+status
+status
+status
+mimeobjectwrite
+obj
+prtrue
+status
+status
+prbool
+quoting
+obj
+options
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagequoting
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagebodyquoting
+prbool
+plainhtml
+quoting
+obj
+options
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagesaveas
+mimeinlinetextplainflowedexdata
+exdata
+mimeinlinetextplainflowedexdata
+prmalloc
+mimeinlinetextplainflowedexdata
+exdata
+mimeoutofmemory
+mimeinlinetextplainflowed
+text
+mimeinlinetextplainflowed
+obj
+exdata
+next
+mimeinlinetextplainflowedexdatalist
+mimeinlinetextplainflowedexdatalist
+exdata
+exdata
+ownerobj
+obj
+exdata
+inflow
+prfalse
+exdata
+quotelevel
+exdata
+issig
+prfalse
+exdata
+fixedwidthfont
+prfalse
+text
+mquotedsizesetting
+text
+mquotedstylesetting
+text
+mcitationcolor
+nsnull
+nsipref
+prefs
+getprefservicemanager
+obj
+options
+prefs
+prefs
+getintpref
+mail
+quotedsize
+text
+mquotedsizesetting
+prefs
+getintpref
+mail
+quotedstyle
+text
+mquotedstylesetting
+prefs
+copycharpref
+mail
+citationcolor
+text
+mcitationcolor
+nsresult
+rv
+prefs
+getboolpref
+mail
+fixedwidthmessages
+exdata
+fixedwidthfont
+nsassertion
+nssucceeded
+rv
+failed
+to
+get
+pref
+nscautostring
+fontstyle
+nscautostring
+fontlang
+exdata
+fixedwidthfont
+fontstyle
+font
+family
+moz
+fixed
+nsmimeoutput
+nsmimemessagebodydisplay
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessageprintoutput
+obj
+options
+formatout
+print
+fontsize
+print
+fontsizepercentage
+nsresult
+rv
+getmailnewsfont
+obj
+exdata
+fixedwidthfont
+fontsize
+fontsizepercentage
+fontlang
+nssucceeded
+rv
+fontstyle
+isempty
+fontstyle
+fontstyle
+font
+size
+fontstyle
+appendint
+fontsize
+fontstyle
+px
+quoting
+nscautostring
+openingdiv
+div
+moz
+text
+flowed
+plainhtml
+fontstyle
+isempty
+openingdiv
+style
+openingdiv
+fontstyle
+openingdiv
+plainhtml
+fontlang
+isempty
+openingdiv
+lang
+openingdiv
+fontlang
+openingdiv
+openingdiv
+status
+mimeobjectwrite
+obj
+nsconstcast
+openingdiv
+get
+openingdiv
+length
+prfalse
+status
+status
+mimeinlinetextplainflowedparseeof
+mimeobject
+obj
+prbool
+abortp
+status
+mimeinlinetextplainflowedexdata
+exdata
+nsnull
+prbool
+quoting
+obj
+options
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagequoting
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagebodyquoting
+obj
+closedp
+status
+mimeobjectclass
+mimesuperclass
+parseeof
+obj
+abortp
+status
+earlyout
+mimeinlinetextplainflowedexdata
+prevexdata
+prevexdata
+mimeinlinetextplainflowedexdatalist
+exdata
+prevexdata
+nsnull
+exdata
+ownerobj
+obj
+prevexdata
+exdata
+next
+prevexdata
+exdata
+next
+nsassertion
+exdata
+the
+extra
+data
+has
+disappeared
+obj
+outputp
+status
+earlyout
+exdata
+quotelevel
+exdata
+quotelevel
+status
+mimeobjectwrite
+obj
+blockquote
+prfalse
+status
+earlyout
+exdata
+issig
+quoting
+status
+mimeobjectwrite
+obj
+div
+prfalse
+status
+earlyout
+quoting
+status
+mimeobjectwrite
+obj
+div
+prfalse
+status
+earlyout
+status
+earlyout
+prfree
+exdata
+mimeinlinetextplainflowed
+text
+mimeinlinetextplainflowed
+obj
+prfreeif
+text
+mcitationcolor
+text
+mcitationcolor
+nsnull
+status
+mimeinlinetextplainflowedparseline
+line
+print
+length
+mimeobject
+obj
+status
+prbool
+quoting
+obj
+options
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagequoting
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagebodyquoting
+prbool
+plainhtml
+quoting
+obj
+options
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagesaveas
+mimeinlinetextplainflowedexdata
+exdata
+exdata
+mimeinlinetextplainflowedexdatalist
+exdata
+exdata
+ownerobj
+obj
+exdata
+exdata
+next
+nsassertion
+exdata
+the
+extra
+data
+has
+disappeared
+nsassertion
+length
+zero
+length
+length
+uint
+linequotelevel
+linep
+line
+linep
+linep
+linep
+linep
+linequotelevel
+linep
+linep
+prbool
+flowed
+prfalse
+print
+index
+length
+index
+line
+index
+line
+index
+index
+index
+linep
+line
+line
+index
+flowed
+prtrue
+mozitxttohtmlconv
+conv
+gettextconverter
+obj
+options
+prbool
+skipconversion
+conv
+obj
+options
+obj
+options
+forceusercharset
+nsstring
+linesource
+nsstring
+lineresult
+linesource
+setcapacity
+kinitialbuffersize
+lineresult
+setcapacity
+kinitialbuffersize
+skipconversion
+linesource
+assignwithconversion
+linep
+length
+linep
+line
+prunichar
+wresult
+nsnull
+nsresult
+rv
+nsok
+prbool
+whattodo
+obj
+options
+whattodo
+plainhtml
+quoting
+whattodo
+whattodo
+whattodo
+mozitxttohtmlconv
+kglyphsubstitution
+mimeinlinetext
+inlinetext
+mimeinlinetext
+obj
+mailcharset
+inlinetext
+charset
+inlinetext
+charset
+mailcharset
+inlinetext
+charset
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagesaveas
+mailcharset
+nsmsginstatefulcharset
+mailcharset
+rv
+conv
+scantxt
+linesource
+get
+whattodo
+wresult
+nsfailed
+rv
+lineresult
+wresult
+recycle
+wresult
+newcstr
+newcstr
+tonewcstring
+linesource
+newcstr
+nsautostring
+ustr
+nscautostring
+cstr
+nscautostring
+mailcharsetstr
+mailcharset
+cstr
+assign
+newcstr
+recycle
+newcstr
+rv
+nsmsginconverttounicode
+mailcharsetstr
+cstr
+ustr
+nssucceeded
+rv
+prunichar
+rv
+conv
+scantxt
+ustr
+get
+whattodo
+nssucceeded
+rv
+ustr
+assign
+recycle
+rv
+nsmsginconvertfromunicode
+mailcharsetstr
+ustr
+cstr
+nssucceeded
+rv
+lineresult
+assignwithconversion
+cstr
+get
+nsfailed
+rv
+lineresult
+assignwithconversion
+line
+length
+status
+nsok
+nscautostring
+preface
+int
+quoteleveldiff
+linequotelevel
+exdata
+quotelevel
+quoteleveldiff
+flowed
+exdata
+inflow
+quoteleveldiff
+quoteleveldiff
+preface
+blockquote
+type
+cite
+mimeinlinetextplainflowed
+tobj
+mimeinlinetextplainflowed
+obj
+style
+mimetextbuildprefixcss
+tobj
+mquotedsizesetting
+tobj
+mquotedstylesetting
+tobj
+mcitationcolor
+plainhtml
+style
+strlen
+style
+preface
+style
+preface
+style
+preface
+prfreeif
+style
+preface
+quoteleveldiff
+quoteleveldiff
+preface
+blockquote
+exdata
+quotelevel
+linequotelevel
+nsstring
+lineresult
+lineresult
+setcapacity
+kinitialbuffersize
+flowed
+linesource
+length
+linesource
+substring
+linesource
+equals
+nsliteralstring
+substring
+linesource
+equals
+nsliteralstring
+linequotelevel
+exdata
+issig
+preface
+nbsp
+br
+exdata
+issig
+prtrue
+preface
+div
+moz
+txt
+sig
+span
+moz
+txt
+tag
+nbsp
+br
+span
+lineconvertwhitespace
+lineresult
+prfalse
+lineresult
+exdata
+inflow
+prtrue
+lineconvertwhitespace
+lineresult
+plainhtml
+obj
+options
+wraplonglinesp
+lineresult
+lineresult
+nsliteralstring
+br
+exdata
+inflow
+prfalse
+exdata
+issig
+quoting
+tmp
+tonewcstring
+preface
+status
+mimeobjectwrite
+obj
+tmp
+preface
+length
+prtrue
+recycle
+tmp
+tmp
+tonewcstring
+lineresult
+status
+mimeobjectwrite
+obj
+tmp
+lineresult
+length
+prtrue
+recycle
+tmp
+status
+nsok
+updateintaginfo
+prbool
+aintag
+prbool
+ainquoteintag
+prunichar
+aquotechar
+prunichar
+acurrentchar
+aintag
+ainquoteintag
+aquotechar
+acurrentchar
+ainquoteintag
+prfalse
+acurrentchar
+ainquoteintag
+prtrue
+aquotechar
+acurrentchar
+aintag
+prfalse
+acurrentchar
+aintag
+prtrue
+ainquoteintag
+prfalse
+convertwhitespace
+prunichar
+acurrentchar
+prunichar
+anextchar
+prbool
+aconvertallwhitespace
+nsstring
+aoutstring
+nsassertion
+acurrentchar
+acurrentchar
+convertwhitespace
+got
+something
+than
+whitespace
+pruint
+numberofnbsp
+pruint
+numberofspace
+acurrentchar
+numberofnbsp
+kspacesforatab
+anextchar
+anextchar
+aconvertallwhitespace
+numberofnbsp
+numberofspace
+numberofspace
+numberofnbsp
+aoutstring
+nsliteralstring
+nbsp
+numberofspace
+aoutstring
+nsliteralstring
+nsresult
+lineconvertwhitespace
+nsstring
+aline
+prbool
+aconvertallwhitespace
+nsstring
+aoutline
+prbool
+intag
+prfalse
+prbool
+inquoteintag
+prfalse
+prunichar
+quotechar
+pruint
+aline
+length
+prunichar
+ic
+aline
+updateintaginfo
+intag
+inquoteintag
+quotechar
+ic
+intag
+ic
+ic
+convertwhitespace
+ic
+aline
+length
+aline
+aconvertallwhitespace
+aoutline
+ic
+aoutline
+ic
+aoutline
+ic
+nsok
\ No newline at end of file
@@ -0,0 +1,774 @@
+mimetpla
+mimebuf
+prmem
+plstr
+mozitxttohtmlconv
+nscomptr
+nsicomponentmanager
+nsstring
+nsxpidlstring
+nsreadableutils
+nsmimestringresources
+mimemoz
+nsiservicemanager
+nsipref
+prprf
+nsmsgin
+nsdefinecid
+kcprefservicecid
+nsprefcid
+define
+mimesuperclass
+mimeinlinetextclass
+mimedefclass
+mimeinlinetextplain
+mimeinlinetextplainclass
+mimeinlinetextplainclass
+mimesuperclass
+mimeinlinetextplainparsebegin
+mimeobject
+mimeinlinetextplainparseline
+print
+mimeobject
+mimeinlinetextplainparseeof
+mimeobject
+prbool
+mimeinlinetextplainclassinitialize
+mimeinlinetextplainclass
+clazz
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+nsassertion
+oclass
+classinitialized
+initialized
+oclass
+parsebegin
+mimeinlinetextplainparsebegin
+oclass
+parseline
+mimeinlinetextplainparseline
+oclass
+parseeof
+mimeinlinetextplainparseeof
+mimetextbuildprefixcss
+print
+quotedsizesetting
+print
+quotedstylesetting
+citationcolor
+formatcstr
+nsnull
+nscstring
+formatstring
+quotedstylesetting
+formatstring
+append
+font
+weight
+bold
+formatstring
+append
+font
+style
+italic
+formatstring
+append
+font
+weight
+bold
+font
+style
+italic
+quotedsizesetting
+formatstring
+append
+font
+size
+large
+formatstring
+append
+font
+size
+small
+citationcolor
+citationcolor
+formatstring
+color
+formatstring
+citationcolor
+formatstring
+formatcstr
+tonewcstring
+formatstring
+formatcstr
+mimeinlinetextplainparsebegin
+mimeobject
+obj
+status
+prbool
+quoting
+obj
+options
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagequoting
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagebodyquoting
+prbool
+plainhtml
+quoting
+obj
+options
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagesaveas
+prbool
+rawplaintext
+obj
+options
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagefiltersniffer
+status
+mimeobjectclass
+mimesuperclass
+parsebegin
+obj
+status
+status
+obj
+outputp
+obj
+options
+obj
+options
+writehtmlp
+obj
+options
+outputfn
+mimeinlinetextplain
+text
+mimeinlinetextplain
+obj
+text
+mcitelevel
+text
+mblockquoting
+prtrue
+text
+mquotedsizesetting
+text
+mquotedstylesetting
+text
+mcitationcolor
+nsnull
+prbool
+graphicalquote
+prtrue
+nsipref
+prefs
+getprefservicemanager
+obj
+options
+prefs
+prefs
+getintpref
+mail
+quotedsize
+text
+mquotedsizesetting
+prefs
+getintpref
+mail
+quotedstyle
+text
+mquotedstylesetting
+prefs
+copycharpref
+mail
+citationcolor
+text
+mcitationcolor
+prefs
+getboolpref
+mail
+quotedgraphical
+graphicalquote
+prefs
+getboolpref
+mail
+quoteasblock
+text
+mblockquoting
+rawplaintext
+nscautostring
+fontstyle
+nscautostring
+fontlang
+obj
+options
+variablewidthplaintextp
+fontstyle
+font
+family
+moz
+fixed
+nsmimeoutput
+nsmimemessagebodydisplay
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessageprintoutput
+obj
+options
+formatout
+print
+fontsize
+print
+fontsizepercentage
+nsresult
+rv
+getmailnewsfont
+obj
+obj
+options
+variablewidthplaintextp
+fontsize
+fontsizepercentage
+fontlang
+nssucceeded
+rv
+fontstyle
+isempty
+fontstyle
+fontstyle
+font
+size
+fontstyle
+appendint
+fontsize
+fontstyle
+px
+nscautostring
+openingdiv
+quoting
+openingdiv
+div
+moz
+text
+plain
+plainhtml
+obj
+options
+wraplonglinesp
+openingdiv
+wrap
+openingdiv
+wrap
+graphicalquote
+openingdiv
+graphical
+quote
+openingdiv
+graphical
+quote
+fontstyle
+isempty
+openingdiv
+style
+openingdiv
+fontstyle
+openingdiv
+fontlang
+isempty
+openingdiv
+lang
+openingdiv
+fontlang
+openingdiv
+openingdiv
+pre
+wrap
+openingdiv
+pre
+wrap
+status
+mimeobjectwrite
+obj
+nsconstcast
+openingdiv
+get
+openingdiv
+length
+prfalse
+status
+status
+status
+mimeobjectwriteseparator
+obj
+status
+status
+mimeinlinetextplainparseeof
+mimeobject
+obj
+prbool
+abortp
+status
+obj
+closedp
+nsxpidlcstring
+citationcolor
+mimeinlinetextplain
+text
+mimeinlinetextplain
+obj
+text
+text
+mcitationcolor
+citationcolor
+adopt
+text
+mcitationcolor
+prbool
+quoting
+obj
+options
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagequoting
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagebodyquoting
+prbool
+rawplaintext
+obj
+options
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagefiltersniffer
+status
+mimeobjectclass
+mimesuperclass
+parseeof
+obj
+abortp
+status
+status
+obj
+outputp
+obj
+options
+obj
+options
+writehtmlp
+obj
+options
+outputfn
+abortp
+rawplaintext
+mimeinlinetextplain
+text
+mimeinlinetextplain
+obj
+text
+missig
+quoting
+status
+mimeobjectwrite
+obj
+div
+prfalse
+status
+status
+status
+mimeobjectwrite
+obj
+pre
+prfalse
+status
+status
+quoting
+status
+mimeobjectwrite
+obj
+div
+prfalse
+status
+status
+status
+mimeobjectwriteseparator
+obj
+status
+status
+mimeinlinetextplainparseline
+line
+print
+length
+mimeobject
+obj
+status
+prbool
+quoting
+obj
+options
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagequoting
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagebodyquoting
+prbool
+plainhtml
+quoting
+obj
+options
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagesaveas
+prbool
+rawplaintext
+obj
+options
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagefiltersniffer
+nsassertion
+length
+zero
+length
+length
+mozitxttohtmlconv
+conv
+gettextconverter
+obj
+options
+mimeinlinetextplain
+text
+mimeinlinetextplain
+obj
+prbool
+skipconversion
+conv
+rawplaintext
+obj
+options
+obj
+options
+forceusercharset
+skipconversion
+nsstring
+linesourcestr
+linesourcestr
+assignwithconversion
+line
+length
+nsresult
+rv
+nscautostring
+prefaceresultstr
+pruint
+oldcitelevel
+text
+mcitelevel
+pruint
+logicallinestart
+rv
+conv
+citeleveltxt
+linesourcestr
+get
+logicallinestart
+text
+mcitelevel
+nsfailed
+rv
+prbool
+whattodo
+obj
+options
+whattodo
+plainhtml
+quoting
+whattodo
+whattodo
+whattodo
+mozitxttohtmlconv
+kglyphsubstitution
+text
+mblockquoting
+text
+mcitelevel
+text
+mcitelevel
+oldcitelevel
+prefaceresultstr
+pre
+pruint
+text
+mcitelevel
+oldcitelevel
+style
+mimetextbuildprefixcss
+text
+mquotedsizesetting
+text
+mquotedstylesetting
+text
+mcitationcolor
+plainhtml
+style
+strlen
+style
+prefaceresultstr
+blockquote
+type
+cite
+style
+prefaceresultstr
+style
+prefaceresultstr
+prefaceresultstr
+blockquote
+type
+cite
+recycle
+style
+prefaceresultstr
+pre
+wrap
+text
+mcitelevel
+oldcitelevel
+prefaceresultstr
+pre
+pruint
+oldcitelevel
+text
+mcitelevel
+prefaceresultstr
+blockquote
+prefaceresultstr
+pre
+wrap
+text
+mcitelevel
+prefaceresultstr
+logicallinestart
+plainhtml
+text
+mblockquoting
+plainhtml
+prefaceresultstr
+span
+moz
+txt
+citetags
+nsautostring
+citetagssource
+linesourcestr
+mid
+citetagssource
+logicallinestart
+nsassertion
+citetagssource
+isascii
+non
+ascii
+chars
+are
+about
+to
+be
+added
+to
+nscautostring
+prefaceresultstr
+change
+the
+latter
+to
+nsautostring
+nsxpidlstring
+citetagsresultunichar
+rv
+conv
+scantxt
+citetagssource
+get
+gettercopies
+citetagsresultunichar
+nsfailed
+rv
+nscautostring
+citetagsresultcstr
+copyucstoascii
+citetagsresultunichar
+citetagsresultcstr
+prefaceresultstr
+citetagsresultcstr
+plainhtml
+prefaceresultstr
+span
+linesourcestr
+length
+linesourcestr
+first
+substring
+linesourcestr
+equals
+nsliteralstring
+linesourcestr
+linesourcestr
+text
+missig
+prtrue
+quoting
+prefaceresultstr
+div
+moz
+txt
+sig
+mimeinlinetext
+inlinetext
+mimeinlinetext
+obj
+mailcharset
+inlinetext
+charset
+inlinetext
+charset
+mailcharset
+inlinetext
+charset
+nsxpidlstring
+lineresultunichar
+obj
+options
+formatout
+nsmimeoutput
+nsmimemessagesaveas
+mailcharset
+nsmsginstatefulcharset
+mailcharset
+rv
+conv
+scantxt
+linesourcestr
+get
+logicallinestart
+whattodo
+gettercopies
+lineresultunichar
+nsfailed
+rv
+nsautostring
+ustr
+nscautostring
+cstr
+line
+length
+nscautostring
+mailcharsetstr
+mailcharset
+rv
+nsmsginconverttounicode
+mailcharsetstr
+cstr
+ustr
+nssucceeded
+rv
+nsxpidlstring
+rv
+conv
+scantxt
+ustr
+get
+logicallinestart
+whattodo
+gettercopies
+nssucceeded
+rv
+ustr
+assign
+rv
+nsmsginconvertfromunicode
+mailcharsetstr
+ustr
+cstr
+nssucceeded
+rv
+lineresultunichar
+adopt
+tonewunicode
+cstr
+lineresultunichar
+nsfailed
+rv
+text
+missig
+quoting
+status
+mimeobjectwrite
+obj
+nsconstcast
+prefaceresultstr
+get
+prefaceresultstr
+length
+prtrue
+status
+status
+nscautostring
+lineresultcstr
+copyucstoascii
+lineresultunichar
+lineresultcstr
+status
+mimeobjectwrite
+obj
+nsconstcast
+lineresultcstr
+get
+lineresultcstr
+length
+prtrue
+status
+status
+status
+nsok
+status
+mimeobjectwrite
+obj
+line
+length
+prtrue
+status
+status
+status
\ No newline at end of file
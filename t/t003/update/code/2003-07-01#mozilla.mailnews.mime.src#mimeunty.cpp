@@ -0,0 +1,823 @@
+mimeunty
+prmem
+plstr
+nscrt
+prlog
+nsmimetypes
+msgcore
+nsmimestringresources
+define
+mimesuperclass
+mimecontainerclass
+mimedefclass
+mimeuntypedtext
+mimeuntypedtextclass
+mimeuntypedtextclass
+mimesuperclass
+mimeuntypedtextinitialize
+mimeobject
+mimeuntypedtextfinalize
+mimeobject
+mimeuntypedtextparsebegin
+mimeobject
+mimeuntypedtextparseline
+print
+mimeobject
+mimeuntypedtextopensubpart
+mimeobject
+obj
+mimeuntypedtextsubparttype
+ttype
+type
+enc
+name
+desc
+mimeuntypedtextclosesubpart
+mimeobject
+obj
+prbool
+mimeuntypedtextuubeginlinep
+line
+print
+length
+mimedisplayoptions
+opt
+typeret
+nameret
+prbool
+mimeuntypedtextuuendlinep
+line
+print
+length
+prbool
+mimeuntypedtextyencbeginlinep
+line
+print
+length
+mimedisplayoptions
+opt
+typeret
+nameret
+prbool
+mimeuntypedtextyencendlinep
+line
+print
+length
+prbool
+mimeuntypedtextbinhexbeginlinep
+line
+print
+length
+mimedisplayoptions
+opt
+prbool
+mimeuntypedtextbinhexendlinep
+line
+print
+length
+mimeuntypedtextclassinitialize
+mimeuntypedtextclass
+clazz
+mimeobjectclass
+oclass
+mimeobjectclass
+clazz
+prassert
+oclass
+classinitialized
+oclass
+initialize
+mimeuntypedtextinitialize
+oclass
+finalize
+mimeuntypedtextfinalize
+oclass
+parsebegin
+mimeuntypedtextparsebegin
+oclass
+parseline
+mimeuntypedtextparseline
+mimeuntypedtextinitialize
+mimeobject
+object
+mimeobjectclass
+mimesuperclass
+initialize
+object
+mimeuntypedtextfinalize
+mimeobject
+object
+mimeuntypedtext
+uty
+mimeuntypedtext
+object
+uty
+openhdrs
+mimeheadersfree
+uty
+openhdrs
+uty
+openhdrs
+mimeobjectclass
+mimesuperclass
+finalize
+object
+mimeuntypedtextparsebegin
+mimeobject
+obj
+mimeobjectclass
+mimesuperclass
+parsebegin
+obj
+mimeuntypedtextparseline
+line
+print
+length
+mimeobject
+obj
+mimeuntypedtext
+uty
+mimeuntypedtext
+obj
+status
+name
+type
+prbool
+beginlinep
+prfalse
+prassert
+line
+line
+line
+line
+obj
+outputp
+obj
+options
+obj
+options
+writehtmlp
+obj
+options
+outputfn
+mimeobjectwrite
+obj
+line
+length
+prtrue
+line
+mimeuntypedtextuubeginlinep
+line
+length
+obj
+options
+type
+name
+status
+mimeuntypedtextopensubpart
+obj
+mimeuntypedtextsubparttypeuue
+type
+encodinguuencode
+name
+prfreeif
+name
+prfreeif
+type
+status
+status
+beginlinep
+prtrue
+line
+mimeuntypedtextyencbeginlinep
+line
+length
+obj
+options
+type
+name
+status
+mimeuntypedtextopensubpart
+obj
+mimeuntypedtextsubparttypeyenc
+type
+encodingyencode
+name
+prfreeif
+name
+prfreeif
+type
+status
+status
+beginlinep
+prtrue
+line
+line
+mimeuntypedtextbinhexbeginlinep
+line
+length
+obj
+options
+status
+mimeuntypedtextopensubpart
+obj
+mimeuntypedtextsubparttypebinhex
+applicationbinhex
+status
+status
+beginlinep
+prtrue
+uty
+opensubpart
+line
+nscrt
+cr
+line
+nscrt
+lf
+prassert
+beginlinep
+status
+mimeuntypedtextopensubpart
+obj
+mimeuntypedtextsubparttypetext
+textplain
+prassert
+uty
+opensubpart
+uty
+opensubpart
+status
+status
+status
+uty
+opensubpart
+clazz
+parsebuffer
+line
+length
+uty
+opensubpart
+status
+status
+beginlinep
+line
+uty
+type
+mimeuntypedtextsubparttypeuue
+mimeuntypedtextuuendlinep
+line
+length
+status
+mimeuntypedtextclosesubpart
+obj
+status
+status
+nsassertion
+uty
+opensubpart
+no
+open
+subpart
+line
+uty
+type
+mimeuntypedtextsubparttypeyenc
+mimeuntypedtextyencendlinep
+line
+length
+status
+mimeuntypedtextclosesubpart
+obj
+status
+status
+nsassertion
+uty
+opensubpart
+no
+open
+subpart
+uty
+type
+mimeuntypedtextsubparttypebinhex
+mimeuntypedtextbinhexendlinep
+line
+length
+status
+mimeuntypedtextclosesubpart
+obj
+status
+status
+nsassertion
+uty
+opensubpart
+no
+open
+subpart
+mimeuntypedtextclosesubpart
+mimeobject
+obj
+mimeuntypedtext
+uty
+mimeuntypedtext
+obj
+status
+uty
+opensubpart
+status
+uty
+opensubpart
+clazz
+parseeof
+uty
+opensubpart
+prfalse
+uty
+opensubpart
+prassert
+uty
+openhdrs
+uty
+openhdrs
+mimeheadersfree
+uty
+openhdrs
+uty
+openhdrs
+uty
+type
+mimeuntypedtextsubparttypetext
+status
+status
+obj
+options
+obj
+options
+state
+obj
+options
+state
+separatorsuppressedp
+prtrue
+prassert
+uty
+openhdrs
+mimeuntypedtextopensubpart
+mimeobject
+obj
+mimeuntypedtextsubparttype
+ttype
+type
+enc
+name
+desc
+mimeuntypedtext
+uty
+mimeuntypedtext
+obj
+status
+type
+type
+nscrt
+strcasecmp
+type
+unknowncontenttype
+type
+applicationoctetstream
+enc
+enc
+enc
+desc
+desc
+desc
+name
+name
+name
+uty
+opensubpart
+status
+mimeuntypedtextclosesubpart
+obj
+status
+status
+nsassertion
+uty
+opensubpart
+no
+open
+subpart
+nsassertion
+uty
+openhdrs
+no
+open
+headers
+uty
+openhdrs
+mimeheadersnew
+uty
+openhdrs
+mimeoutofmemory
+prmalloc
+strlen
+type
+enc
+strlen
+enc
+desc
+strlen
+desc
+name
+strlen
+name
+mimeoutofmemory
+plstrcpy
+headercontenttype
+plstrcat
+type
+plstrcat
+msglinebreak
+status
+mimeheadersparseline
+strlen
+uty
+openhdrs
+status
+fail
+enc
+plstrcpy
+headercontenttransferencoding
+plstrcat
+enc
+plstrcat
+msglinebreak
+status
+mimeheadersparseline
+strlen
+uty
+openhdrs
+status
+fail
+desc
+plstrcpy
+headercontentdescription
+plstrcat
+desc
+plstrcat
+msglinebreak
+status
+mimeheadersparseline
+strlen
+uty
+openhdrs
+status
+fail
+name
+plstrcpy
+headercontentdisposition
+filename
+plstrcat
+name
+plstrcat
+msglinebreak
+status
+mimeheadersparseline
+strlen
+uty
+openhdrs
+status
+fail
+plstrcpy
+msglinebreak
+status
+mimeheadersparseline
+strlen
+uty
+openhdrs
+status
+fail
+prbool
+horridkludge
+obj
+options
+obj
+options
+state
+obj
+options
+state
+firstpartwrittenp
+horridkludge
+obj
+options
+state
+firstpartwrittenp
+prfalse
+uty
+opensubpart
+mimecreate
+type
+uty
+openhdrs
+obj
+options
+horridkludge
+obj
+options
+state
+firstpartwrittenp
+prtrue
+uty
+opensubpart
+status
+mimeoutofmemory
+fail
+status
+mimecontainerclass
+obj
+clazz
+addchild
+obj
+uty
+opensubpart
+status
+mimefree
+uty
+opensubpart
+uty
+opensubpart
+fail
+status
+uty
+opensubpart
+clazz
+parsebegin
+uty
+opensubpart
+status
+uty
+opensubpart
+fail
+uty
+type
+ttype
+fail
+prfreeif
+status
+uty
+openhdrs
+mimeheadersfree
+uty
+openhdrs
+uty
+openhdrs
+status
+prbool
+mimeuntypedtextuubeginlinep
+line
+print
+length
+mimedisplayoptions
+opt
+typeret
+nameret
+name
+type
+typeret
+typeret
+nameret
+nameret
+strncmp
+line
+begin
+prfalse
+line
+prfalse
+prfalse
+prfalse
+prfalse
+prfalse
+nscrt
+isasciispace
+name
+prmalloc
+line
+length
+name
+prfalse
+memcpy
+name
+line
+length
+name
+line
+length
+name
+strlen
+name
+nscrt
+lf
+name
+strlen
+name
+name
+strlen
+name
+nscrt
+cr
+name
+strlen
+name
+opt
+opt
+filetypefn
+type
+opt
+filetypefn
+name
+opt
+streamclosure
+type
+nameret
+nameret
+name
+prfreeif
+name
+typeret
+typeret
+type
+prfreeif
+type
+prtrue
+prbool
+mimeuntypedtextuuendlinep
+line
+print
+length
+line
+line
+line
+line
+nscrt
+isasciispace
+line
+line
+line
+line
+line
+line
+line
+line
+line
+endif
+prbool
+mimeuntypedtextyencbeginlinep
+line
+print
+length
+mimedisplayoptions
+opt
+typeret
+nameret
+endofline
+line
+length
+name
+type
+typeret
+typeret
+nameret
+nameret
+length
+strncmp
+line
+ybegin
+line
+prfalse
+line
+endofline
+endofline
+strncmp
+size
+prfalse
+endofline
+endofline
+strncmp
+name
+prfalse
+name
+prmalloc
+endofline
+name
+prfalse
+memcpy
+name
+endofline
+name
+endofline
+name
+strlen
+name
+nscrt
+lf
+name
+strlen
+name
+name
+strlen
+name
+nscrt
+cr
+name
+strlen
+name
+opt
+opt
+filetypefn
+type
+opt
+filetypefn
+name
+opt
+streamclosure
+type
+nameret
+nameret
+name
+prfreeif
+name
+typeret
+typeret
+type
+prfreeif
+type
+prtrue
+prbool
+mimeuntypedtextyencendlinep
+line
+print
+length
+length
+strncmp
+line
+yend
+size
+prfalse
+prtrue
+define
+binhexmagic
+this
+file
+must
+be
+converted
+with
+binhex
+define
+binhexmagiclen
+prbool
+mimeuntypedtextbinhexbeginlinep
+line
+print
+length
+mimedisplayoptions
+opt
+length
+binhexmagiclen
+prfalse
+length
+nscrt
+isasciispace
+line
+length
+length
+length
+binhexmagiclen
+prfalse
+strncmp
+line
+binhexmagic
+binhexmagiclen
+prtrue
+prfalse
+prbool
+mimeuntypedtextbinhexendlinep
+line
+print
+length
+length
+line
+length
+nscrt
+lf
+length
+length
+line
+length
+nscrt
+cr
+length
+length
+length
+prtrue
+prfalse
\ No newline at end of file
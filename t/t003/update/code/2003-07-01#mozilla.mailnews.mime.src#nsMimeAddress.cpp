@@ -0,0 +1,107 @@
+plstr
+prmem
+nsiservicemanager
+nsmsgbasecid
+nsimsgheaderparser
+nscomptr
+parserfcaddresses
+line
+names
+addresses
+pruint
+numaddresses
+nsresult
+res
+nscomptr
+nsimsgheaderparser
+pheader
+dogetservice
+nsmailnewsmimeheaderparsercontractid
+res
+nssucceeded
+res
+pheader
+pheader
+parseheaderaddresses
+nsnull
+line
+names
+addresses
+numaddresses
+numaddresses
+extractrfcaddressmailboxes
+line
+retval
+nsresult
+res
+nscomptr
+nsimsgheaderparser
+pheader
+dogetservice
+nsmailnewsmimeheaderparsercontractid
+res
+nssucceeded
+res
+pheader
+pheader
+extractheaderaddressmailboxes
+line
+retval
+retval
+extractrfcaddressnames
+line
+retval
+nsresult
+res
+nscomptr
+nsimsgheaderparser
+pheader
+dogetservice
+nsmailnewsmimeheaderparsercontractid
+res
+nssucceeded
+res
+pheader
+pheader
+extractheaderaddressnames
+line
+retval
+retval
+extractrfcaddressname
+line
+retval
+nsresult
+res
+nscomptr
+nsimsgheaderparser
+pheader
+dogetservice
+nsmailnewsmimeheaderparsercontractid
+res
+nssucceeded
+res
+pheader
+pheader
+extractheaderaddressname
+line
+retval
+retval
+reformatrfcaddresses
+line
+retval
+nsresult
+res
+nscomptr
+nsimsgheaderparser
+pheader
+dogetservice
+nsmailnewsmimeheaderparsercontractid
+res
+nssucceeded
+res
+pheader
+pheader
+reformatheaderaddresses
+line
+retval
+retval
\ No newline at end of file
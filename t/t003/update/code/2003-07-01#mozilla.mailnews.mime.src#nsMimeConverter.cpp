@@ -0,0 +1,271 @@
+stdio
+mimecom
+modmimee
+nscore
+nsmimeconverter
+comin
+nsmsgin
+prmem
+plstr
+nsreadableutils
+nsimplthreadsafeaddref
+nsmimeconverter
+nsimplthreadsaferelease
+nsmimeconverter
+nsinterfacemapbegin
+nsmimeconverter
+nsinterfacemapentryambiguous
+nsisupports
+nsimimeconverter
+nsinterfacemapentry
+nsimimeconverter
+nsinterfacemapend
+nsmimeconverter
+nsmimeconverter
+nsmimeconverter
+nsmimeconverter
+nsresult
+nsmimeconverter
+decodemimeheader
+header
+decodedstring
+defaultcharset
+prbool
+overridecharset
+prbool
+eatcontinuations
+decodedstring
+mimedecodemimeheader
+header
+defaultcharset
+overridecharset
+eatcontinuations
+nsok
+nsresult
+nsmimeconverter
+decodemimeheader
+header
+prunichar
+decodedstring
+defaultcharset
+prbool
+overridecharset
+prbool
+eatcontinuations
+decodedcstr
+nsnull
+nsresult
+res
+nsok
+decodedcstr
+mimedecodemimeheader
+header
+defaultcharset
+overridecharset
+eatcontinuations
+nsnull
+decodedcstr
+decodedstring
+tonewunicode
+nsconvertutftoucs
+header
+decodedstring
+tonewunicode
+nsconvertutftoucs
+decodedcstr
+prfreeif
+decodedcstr
+decodedstring
+res
+nserroroutofmemory
+res
+nsresult
+nsmimeconverter
+decodemimeheader
+header
+nsastring
+decodedstring
+defaultcharset
+prbool
+overridecharset
+prbool
+eatcontinuations
+decodedcstr
+nsnull
+decodedcstr
+mimedecodemimeheader
+header
+defaultcharset
+overridecharset
+eatcontinuations
+nsnull
+decodedcstr
+decodedstring
+nsconvertutftoucs
+header
+decodedstring
+nsconvertutftoucs
+decodedcstr
+prfreeif
+decodedcstr
+nsok
+nsresult
+nsmimeconverter
+encodemimepartiistr
+header
+prbool
+structured
+mailcharset
+print
+fieldnamelen
+print
+encodedwordsize
+encodedstring
+nsautostring
+tempunicodestring
+nsresult
+rv
+converttounicode
+mailcharset
+header
+tempunicodestring
+nsensuresuccess
+rv
+rv
+rv
+encodemimepartiistrutf
+nsconvertucstoutf
+tempunicodestring
+get
+structured
+mailcharset
+fieldnamelen
+encodedwordsize
+encodedstring
+rv
+nsresult
+nsmimeconverter
+encodemimepartiistrutf
+header
+prbool
+structured
+mailcharset
+print
+fieldnamelen
+print
+encodedwordsize
+encodedstring
+retstring
+mimeencodemimepartiistr
+header
+structured
+mailcharset
+fieldnamelen
+encodedwordsize
+retstring
+nserrorfailure
+encodedstring
+retstring
+nsok
+nsresult
+nsmimeconverter
+bencoderinit
+nsresult
+outputfn
+buf
+print
+size
+closure
+closure
+mimeencoderdata
+returnencoderdata
+mimeencoderdata
+ptr
+ptr
+mimebencoderinit
+outputfn
+closure
+ptr
+returnencoderdata
+ptr
+nsok
+nserroroutofmemory
+nsresult
+nsmimeconverter
+qpencoderinit
+nsresult
+outputfn
+buf
+print
+size
+closure
+closure
+mimeencoderdata
+returnencoderdata
+mimeencoderdata
+ptr
+ptr
+mimeqpencoderinit
+outputfn
+closure
+ptr
+returnencoderdata
+ptr
+nsok
+nserroroutofmemory
+nsresult
+nsmimeconverter
+uuencoderinit
+filename
+nsresult
+outputfn
+buf
+print
+size
+closure
+closure
+mimeencoderdata
+returnencoderdata
+mimeencoderdata
+ptr
+ptr
+mimeuuencoderinit
+filename
+outputfn
+closure
+ptr
+returnencoderdata
+ptr
+nsok
+nserroroutofmemory
+nsresult
+nsmimeconverter
+encoderdestroy
+mimeencoderdata
+data
+prbool
+abortp
+mimeencoderdestroy
+data
+abortp
+nsok
+nsresult
+nsmimeconverter
+encoderwrite
+mimeencoderdata
+data
+buffer
+print
+size
+print
+written
+print
+writecount
+writecount
+mimeencoderwrite
+data
+buffer
+size
+written
+writecount
+nsok
\ No newline at end of file
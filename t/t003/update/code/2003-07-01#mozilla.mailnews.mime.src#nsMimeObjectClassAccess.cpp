@@ -0,0 +1,71 @@
+stdio
+mimecom
+nscore
+nsmimeobjectclassaccess
+nsimplisupports
+nsmimeobjectclassaccess
+nsimimeobjectclassaccess
+nsmimeobjectclassaccess
+nsmimeobjectclassaccess
+nsmimeobjectclassaccess
+nsmimeobjectclassaccess
+nsresult
+nsmimeobjectclassaccess
+mimeobjectwrite
+mimeobject
+data
+print
+length
+prbool
+uservisiblep
+rc
+xpcommimeobjectwrite
+mimeobject
+data
+length
+uservisiblep
+rc
+nserrorfailure
+nsok
+nsresult
+nsmimeobjectclassaccess
+getmimeinlinetextclass
+ptr
+ptr
+xpcomgetmimeinlinetextclass
+nsok
+nsresult
+nsmimeobjectclassaccess
+getmimeleafclass
+ptr
+ptr
+xpcomgetmimeleafclass
+nsok
+nsresult
+nsmimeobjectclassaccess
+getmimeobjectclass
+ptr
+ptr
+xpcomgetmimeobjectclass
+nsok
+nsresult
+nsmimeobjectclassaccess
+getmimecontainerclass
+ptr
+ptr
+xpcomgetmimecontainerclass
+nsok
+nsresult
+nsmimeobjectclassaccess
+getmimemultipartclass
+ptr
+ptr
+xpcomgetmimemultipartclass
+nsok
+nsresult
+nsmimeobjectclassaccess
+getmimemultipartsignedclass
+ptr
+ptr
+xpcomgetmimemultipartsignedclass
+nsok
\ No newline at end of file
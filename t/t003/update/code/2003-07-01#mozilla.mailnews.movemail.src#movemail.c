@@ -0,0 +1,393 @@
+stdio
+sys
+types
+sys
+stat
+fcntl
+unistd
+errno
+sys
+wait
+xpbool
+define
+true
+define
+false
+define
+linuxglibc
+sys
+errno
+defined
+freebsd
+defined
+maclinux
+defined
+linuxglibc
+syserrlist
+sysnerr
+endif
+xfecantmovemail
+xfecantgetnewmaillockfileexists
+xfecantgetnewmailunabletocreatelockfile
+xfecantgetnewmailsystemerror
+xfecantmovemailunabletoopen
+xfecantmovemailunabletoread
+xfecantmovemailunabletowrite
+xfetherewereproblemsmovingmail
+xfetherewereproblemsmovingmailexitstatus
+xfetherewereproblemscleaningup
+xfemovemailfailuresuffix
+xfeunknownerrorcode
+xfemovemailnomessages
+xfemovemailcantdeletelock
+define
+tmpsuffix
+nslock
+define
+locksuffix
+lock
+define
+namelen
+ifndef
+bufsiz
+define
+bufsiz
+endif
+xpgetstring
+femovemailperror
+message
+errno
+es
+buf
+buf
+suffix
+sysnerr
+es
+syserrlist
+snprintf
+buf
+buf
+xpgetstring
+xfeunknownerrorcode
+errno
+printf
+xfeunknownerrorcode
+es
+buf
+suffix
+xpgetstring
+xfemovemailfailuresuffix
+printf
+xfemovemailfailuresuffix
+suffix
+suffix
+message
+message
+strlen
+message
+strlen
+es
+strlen
+suffix
+buf
+malloc
+buf
+snprintf
+buf
+message
+es
+suffix
+fealert
+buf
+endif
+free
+buf
+femovemail
+from
+to
+xpbool
+succeeded
+false
+tmpfile
+namelen
+lockfile
+namelen
+spooldir
+namelen
+bp
+buf
+bufsiz
+msgbuf
+fromfd
+tofd
+tmpfd
+nread
+nwritten
+nbytes
+ntodo
+stat
+st
+lockfile
+from
+to
+false
+strlen
+from
+namelen
+false
+strcpy
+spooldir
+from
+bp
+strrchr
+spooldir
+bp
+bp
+bp
+false
+bp
+printf
+spooldir
+access
+spooldir
+rok
+wok
+snprintf
+msgbuf
+msgbuf
+xpgetstring
+xfecantmovemailunabletowrite
+from
+printf
+xfecantmovemailunabletowrite
+femovemailperror
+msgbuf
+fail
+stat
+from
+st
+st
+stsize
+netprogress
+xpgetstring
+xfemovemailnomessages
+endif
+fail
+snprintf
+tmpfile
+tmpfile
+from
+tmpsuffix
+access
+tmpfile
+unlink
+tmpfile
+snprintf
+msgbuf
+msgbuf
+xpgetstring
+xfecantgetnewmaillockfileexists
+tmpfile
+femovemailperror
+msgbuf
+fail
+snprintf
+lockfile
+lockfile
+from
+locksuffix
+ret
+tmpfd
+open
+tmpfile
+owronly
+ocreat
+oexcl
+tmpfd
+snprintf
+msgbuf
+msgbuf
+xpgetstring
+xfecantgetnewmailunabletocreatelockfile
+tmpfile
+femovemailperror
+msgbuf
+fail
+close
+tmpfd
+tmpfd
+ret
+link
+tmpfile
+lockfile
+unlink
+tmpfile
+snprintf
+msgbuf
+msgbuf
+xpgetstring
+xfemovemailcantdeletelock
+tmpfile
+printf
+xfemovemailcantdeletelock
+femovemailperror
+msgbuf
+fail
+ret
+sleep
+stat
+lockfile
+st
+current
+time
+st
+stctime
+current
+unlink
+lockfile
+fromfd
+open
+from
+ordwr
+fromfd
+err
+access
+from
+wok
+err
+xfecantmovemailunabletowrite
+access
+from
+err
+xfecantmovemailunabletoread
+err
+xfecantmovemailunabletoopen
+snprintf
+msgbuf
+msgbuf
+xpgetstring
+err
+from
+femovemailperror
+msgbuf
+fail
+tofd
+open
+to
+owronly
+ocreat
+oexcl
+tofd
+snprintf
+msgbuf
+msgbuf
+xpgetstring
+xfecantmovemailunabletoopen
+to
+femovemailperror
+msgbuf
+fail
+nbytes
+bufsiz
+nread
+read
+fromfd
+buf
+nbytes
+nread
+snprintf
+msgbuf
+msgbuf
+xpgetstring
+xfecantmovemailunabletoread
+from
+femovemailperror
+msgbuf
+fail
+nread
+ntodo
+nread
+bp
+buf
+ntodo
+ntodo
+nwritten
+bp
+nwritten
+nwritten
+write
+tofd
+bp
+ntodo
+nwritten
+snprintf
+msgbuf
+msgbuf
+xpgetstring
+xfecantmovemailunabletowrite
+to
+femovemailperror
+msgbuf
+fail
+fsync
+tofd
+close
+tofd
+snprintf
+msgbuf
+msgbuf
+xpgetstring
+xfecantmovemailunabletowrite
+to
+femovemailperror
+msgbuf
+fail
+tofd
+ftruncate
+fromfd
+offt
+snprintf
+msgbuf
+msgbuf
+xpgetstring
+xfetherewereproblemscleaningup
+from
+femovemailperror
+msgbuf
+fail
+succeeded
+true
+fail
+tofd
+close
+tofd
+fromfd
+close
+fromfd
+tmpfd
+close
+tmpfd
+lockfile
+unlink
+lockfile
+succeeded
+snprintf
+msgbuf
+msgbuf
+xpgetstring
+xfetherewereproblemscleaningup
+lockfile
+femovemailperror
+msgbuf
+succeeded
+false
+succeeded
+femovemail
+var
+spool
+mail
+localguy
+home
+localguy
+mail
+recovery
\ No newline at end of file
@@ -0,0 +1,154 @@
+nsisupports
+nsifactory
+nsimodule
+nsigenericfactory
+msgcore
+pratom
+nsicomponentmanager
+nsiservicemanager
+nscrt
+nscomptr
+nsnewsfolder
+nsmsgnewscid
+nsnntpurl
+nsnntpservice
+nsnntpincomingserver
+nsnntpnewsgrouppost
+nsnntpnewsgrouplist
+nsnntparticlelist
+nsnewsdownloaddialogargs
+nsicontenthandler
+nscuriloader
+nsgenericfactoryconstructor
+nsnntpurl
+nsgenericfactoryconstructor
+nsnntpservice
+nsgenericfactoryconstructor
+nsnntpincomingserver
+nsgenericfactoryconstructor
+nsnntparticlelist
+nsgenericfactoryconstructor
+nsnntpnewsgrouppost
+nsgenericfactoryconstructor
+nsnntpnewsgrouplist
+nsgenericfactoryconstructor
+nsmsgnewsfolder
+nsgenericfactoryconstructor
+nsnewsdownloaddialogargs
+nsmodulecomponentinfo
+components
+nntp
+url
+nsnntpurlcid
+nsnntpurlcontractid
+nsnntpurlconstructor
+nntp
+service
+nsnntpservicecid
+nsnntpservicecontractid
+nsnntpserviceconstructor
+news
+startup
+handler
+nsnntpservicecid
+nsnewsstartuphandlercontractid
+nsnntpserviceconstructor
+nsnntpservice
+registerproc
+nsnntpservice
+unregisterproc
+nntp
+protocol
+info
+nsnntpservicecid
+nsnntpprotocolinfocontractid
+nsnntpserviceconstructor
+nntp
+message
+service
+nsnntpservicecid
+nsnntpmessageservicecontractid
+nsnntpserviceconstructor
+news
+message
+service
+nsnntpservicecid
+nsnewsmessageservicecontractid
+nsnntpserviceconstructor
+news
+protocol
+handler
+nsnntpservicecid
+nsnewsprotocolhandlercontractid
+nsnntpserviceconstructor
+secure
+news
+protocol
+handler
+nsnntpservicecid
+nssnewsprotocolhandlercontractid
+nsnntpserviceconstructor
+nntp
+protocol
+handler
+nsnntpservicecid
+nsnntpprotocolhandlercontractid
+nsnntpserviceconstructor
+newsgroup
+content
+handler
+nsnntpservicecid
+nscontenthandlercontractidprefix
+application
+newsgroup
+nsnntpserviceconstructor
+newsgroup
+listids
+content
+handler
+nsnntpservicecid
+nscontenthandlercontractidprefix
+application
+newsgroup
+listids
+nsnntpserviceconstructor
+news
+folder
+resource
+nsnewsfolderresourcecid
+nsnewsfolderresourcecontractid
+nsmsgnewsfolderconstructor
+nntp
+incoming
+servier
+nsnntpincomingservercid
+nsnntpincomingservercontractid
+nsnntpincomingserverconstructor
+nntp
+newsgroup
+post
+nsnntpnewsgrouppostcid
+nsnntpnewsgrouppostcontractid
+nsnntpnewsgrouppostconstructor
+nntp
+newsgroup
+list
+nsnntpnewsgrouplistcid
+nsnntpnewsgrouplistcontractid
+nsnntpnewsgrouplistconstructor
+nntp
+article
+list
+nsnntparticlelistcid
+nsnntparticlelistcontractid
+nsnntparticlelistconstructor
+news
+download
+dialog
+args
+nsnewsdownloaddialogargscid
+nsnewsdownloaddialogargscontractid
+nsnewsdownloaddialogargsconstructor
+nsimplnsgetmodule
+nsmsgnewsmodule
+components
\ No newline at end of file
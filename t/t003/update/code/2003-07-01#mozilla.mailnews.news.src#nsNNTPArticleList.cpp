@@ -0,0 +1,145 @@
+msgcore
+nscomptr
+nsnntparticlelist
+nsimsgfolder
+nsimplisupports
+nsnntparticlelist
+nsinntparticlelist
+nsnntparticlelist
+nsnntparticlelist
+nsnntparticlelist
+nsnntparticlelist
+mnewsdb
+mnewsdb
+commit
+nsmsgdbcommittype
+ksessioncommit
+mnewsdb
+close
+prtrue
+mnewsdb
+nsnull
+mnewsfolder
+nsnull
+nsimethodimp
+nsnntparticlelist
+initialize
+nsimsgnewsfolder
+newsfolder
+nsresult
+rv
+nsensureargpointer
+newsfolder
+mdbindex
+mnewsfolder
+newsfolder
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+mnewsfolder
+rv
+nsensuresuccess
+rv
+rv
+rv
+folder
+getmsgdatabase
+nsnull
+getteraddrefs
+mnewsdb
+nsensuresuccess
+rv
+rv
+mnewsdb
+nserrorunexpected
+rv
+mnewsdb
+listallkeys
+midsindb
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsnntparticlelist
+addarticlekey
+print
+key
+ifdef
+debug
+midsonserver
+add
+key
+endif
+mdbindex
+midsindb
+getsize
+print
+idindbtocheck
+midsindb
+getat
+mdbindex
+idindbtocheck
+key
+mnewsfolder
+removemessage
+idindbtocheck
+ifdef
+debug
+midsdeleted
+add
+idindbtocheck
+endif
+mdbindex
+midsindb
+getsize
+idindbtocheck
+midsindb
+getat
+mdbindex
+idindbtocheck
+key
+mdbindex
+nsok
+nsimethodimp
+nsnntparticlelist
+finishaddingarticlekeys
+pruint
+totalcount
+midsindb
+getsize
+pruint
+mdbindex
+totalcount
+mnewsfolder
+removemessage
+midsindb
+getat
+ifdef
+debug
+midsdeleted
+add
+midsindb
+getat
+endif
+ifdef
+debug
+midsdeleted
+getsize
+nsassertion
+midsonserver
+findindex
+nsmsgkey
+midsdeleted
+getat
+nsmsgviewindexnone
+deleted
+turned
+up
+on
+the
+idsonserver
+list
+endif
+nsok
\ No newline at end of file
@@ -0,0 +1,1504 @@
+msgcore
+mailnewstypes
+nscomptr
+nsidbfolderinfo
+nsinewsdatabase
+nsimsgstatusfeedback
+nscomptr
+nsidomwindowinternal
+nsxpidlstring
+nsimsgaccountmanager
+nsimsgincomingserver
+nsinntpincomingserver
+nsmsgbasecid
+nsnntpnewsgrouplist
+nsinntparticlelist
+nsmsgkeyset
+nntpcore
+nsistringbundle
+plstr
+prmem
+prprf
+nscrt
+nsmsgutils
+nsmsgdatabase
+nsidbfolderinfo
+nsnewsutils
+nsmsgdbcid
+nsinewsdownloaddialogargs
+nsxpcom
+nsisupportsprimitives
+nsiinterfacerequestor
+nsiinterfacerequestorutils
+nsimsgwindow
+nsidocshell
+define
+minstatusupdateinterval
+prusecpersec
+nsdefinecid
+kcnewsdb
+nsnewsdbcid
+nsnntpnewsgrouplist
+nsnntpnewsgrouplist
+mfinishingxover
+prfalse
+mgetoldmessages
+prfalse
+mpromptedalready
+prfalse
+mdownloadall
+prfalse
+mmaxarticles
+mlastpercent
+mlastprocessednumber
+mlastmsgnumber
+mfirstmsgtodownload
+mlastmsgtodownload
+mset
+nsnull
+nsnntpnewsgrouplist
+nsnntpnewsgrouplist
+cleanup
+nsimplisupports
+nsnntpnewsgrouplist
+nsinntpnewsgrouplist
+nsimsgfilterhitnotify
+nsresult
+nsnntpnewsgrouplist
+initialize
+nsinntpurl
+runningurl
+nsimsgnewsfolder
+newsfolder
+mnewsfolder
+newsfolder
+mrunningurl
+runningurl
+mknownarts
+set
+nsmsgkeyset
+create
+nsok
+nsresult
+nsnntpnewsgrouplist
+cleanup
+mnewsdb
+mnewsdb
+commit
+nsmsgdbcommittype
+ksessioncommit
+mnewsdb
+close
+prtrue
+mnewsdb
+nsnull
+mknownarts
+set
+mknownarts
+set
+mknownarts
+set
+nsnull
+mnewsfolder
+nsnull
+mrunningurl
+nsnull
+nsok
+ifdef
+havechangelistener
+nsnntpnewsgrouplist
+onannouncergoingaway
+changeannouncer
+instigator
+endif
+nsresult
+openwindow
+nsimsgwindow
+amsgwindow
+chromeurl
+nsinewsdownloaddialogargs
+param
+nsresult
+rv
+nsensureargpointer
+amsgwindow
+nscomptr
+nsidocshell
+docshell
+rv
+amsgwindow
+getrootdocshell
+getteraddrefs
+docshell
+nsfailed
+rv
+rv
+nscomptr
+nsidomwindowinternal
+parentwindow
+dogetinterface
+docshell
+nsensuretrue
+parentwindow
+nserrorfailure
+nscomptr
+nsisupportsinterfacepointer
+ifptr
+docreateinstance
+nssupportsinterfacepointercontractid
+rv
+nsensuresuccess
+rv
+rv
+ifptr
+setdata
+param
+ifptr
+setdataiid
+nsgetiid
+nsinewsdownloaddialogargs
+nscomptr
+nsidomwindow
+dialogwindow
+rv
+parentwindow
+opendialog
+nsconvertasciitoucs
+chromeurl
+nsliteralstring
+blank
+nsliteralstring
+centerscreen
+modal
+titlebar
+ifptr
+getteraddrefs
+dialogwindow
+rv
+nsresult
+nsnntpnewsgrouplist
+getrangeofartstodownload
+nsimsgwindow
+amsgwindow
+print
+firstpossible
+print
+lastpossible
+print
+maxextra
+print
+first
+print
+last
+print
+status
+nsresult
+rv
+nsok
+nsensureargpointer
+first
+nsensureargpointer
+last
+nsensureargpointer
+status
+first
+last
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+mnewsfolder
+rv
+nsensuresuccess
+rv
+rv
+mmsgwindow
+amsgwindow
+mnewsdb
+rv
+folder
+getmsgdatabase
+nsnull
+getteraddrefs
+mnewsdb
+nscomptr
+nsinewsdatabase
+db
+doqueryinterface
+mnewsdb
+rv
+nsensuresuccess
+rv
+rv
+rv
+db
+getreadset
+mset
+nsfailed
+rv
+mset
+rv
+mset
+setlastmember
+lastpossible
+nscomptr
+nsidbfolderinfo
+newsgroupinfo
+rv
+mnewsdb
+getdbfolderinfo
+getteraddrefs
+newsgroupinfo
+nssucceeded
+rv
+newsgroupinfo
+nsxpidlcstring
+knownartsstring
+nsmsgkey
+mark
+newsgroupinfo
+getknownartsset
+gettercopies
+knownartsstring
+rv
+newsgroupinfo
+gethighwater
+mark
+nsensuresuccess
+rv
+rv
+lastpossible
+print
+mark
+newsgroupinfo
+sethighwater
+lastpossible
+prtrue
+mknownarts
+set
+mknownarts
+set
+mknownarts
+set
+nsmsgkeyset
+create
+knownartsstring
+get
+mknownarts
+set
+mknownarts
+set
+mknownarts
+set
+nsmsgkeyset
+create
+nsmsgkey
+low
+high
+rv
+mnewsdb
+getlowwaterarticlenum
+low
+nsensuresuccess
+rv
+rv
+rv
+mnewsdb
+gethighwaterarticlenum
+high
+nsensuresuccess
+rv
+rv
+mknownarts
+set
+addrange
+low
+high
+mknownarts
+set
+ismember
+lastpossible
+nsxpidlstring
+statusstring
+nscomptr
+nsistringbundleservice
+bundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsistringbundle
+bundle
+rv
+bundleservice
+createbundle
+newsmsgsurl
+getteraddrefs
+bundle
+nsensuresuccess
+rv
+rv
+rv
+bundle
+getstringfromname
+nsliteralstring
+nonewmessages
+get
+gettercopies
+statusstring
+nsensuresuccess
+rv
+rv
+setprogressstatus
+statusstring
+maxextra
+lastpossible
+firstpossible
+lastpossible
+status
+nsok
+mknownarts
+firstpossible
+firstpossible
+mknownarts
+lastpossible
+lastpossible
+nscomptr
+nsimsgincomingserver
+server
+rv
+folder
+getserver
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+nscomptr
+nsinntpincomingserver
+nntpserver
+doqueryinterface
+server
+rv
+nsensuresuccess
+rv
+rv
+mgetoldmessages
+mknownarts
+set
+ismember
+lastpossible
+prbool
+notifymaxexceededon
+prtrue
+rv
+nntpserver
+getnotifyon
+notifymaxexceededon
+nsfailed
+rv
+notifymaxexceededon
+prtrue
+mgetoldmessages
+notifymaxexceededon
+maxextra
+xfffffffl
+result
+mknownarts
+set
+lastmissingrange
+firstpossible
+lastpossible
+first
+last
+result
+status
+result
+nserrornotinitialized
+first
+last
+first
+maxextra
+mgetoldmessages
+mpromptedalready
+notifymaxexceededon
+mdownloadall
+prfalse
+nscomptr
+nsinewsdownloaddialogargs
+args
+docreateinstance
+messenger
+newsdownloaddialogargs
+rv
+nsfailed
+rv
+rv
+nsensuresuccess
+rv
+rv
+rv
+args
+setarticlecount
+last
+first
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+groupname
+rv
+mnewsfolder
+getasciiname
+gettercopies
+groupname
+nsensuresuccess
+rv
+rv
+rv
+args
+setgroupname
+groupname
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+serverkey
+rv
+server
+getkey
+gettercopies
+serverkey
+nsensuresuccess
+rv
+rv
+rv
+args
+setserverkey
+serverkey
+nsensuresuccess
+rv
+rv
+prbool
+download
+prfalse
+amsgwindow
+rv
+openwindow
+amsgwindow
+downloadheadersurl
+args
+nsensuresuccess
+rv
+rv
+rv
+args
+gethitok
+download
+nsensuresuccess
+rv
+rv
+download
+rv
+args
+getdownloadall
+mdownloadall
+nsensuresuccess
+rv
+rv
+mmaxarticles
+rv
+nntpserver
+getmaxarticles
+mmaxarticles
+nsensuresuccess
+rv
+rv
+maxextra
+mmaxarticles
+mdownloadall
+prbool
+markoldread
+prfalse
+rv
+nntpserver
+getmarkoldread
+markoldread
+nsfailed
+rv
+markoldread
+prfalse
+markoldread
+mset
+mset
+addrange
+first
+last
+maxextra
+first
+last
+maxextra
+first
+last
+mpromptedalready
+prtrue
+mpromptedalready
+mdownloadall
+first
+last
+mmaxarticles
+mdownloadall
+first
+last
+maxextra
+mfirstmsgtodownload
+first
+mlastmsgtodownload
+last
+status
+nsok
+nsresult
+nsnntpnewsgrouplist
+addtoknownarticles
+print
+first
+print
+last
+status
+mknownarts
+set
+mknownarts
+set
+nsmsgkeyset
+create
+mknownarts
+set
+nserroroutofmemory
+status
+mknownarts
+set
+addrange
+first
+last
+mnewsdb
+nsresult
+rv
+nsok
+nscomptr
+nsidbfolderinfo
+newsgroupinfo
+rv
+mnewsdb
+getdbfolderinfo
+getteraddrefs
+newsgroupinfo
+nssucceeded
+rv
+newsgroupinfo
+output
+status
+mknownarts
+set
+output
+output
+output
+newsgroupinfo
+setknownartsset
+output
+nsmemory
+free
+output
+output
+nsnull
+status
+nsresult
+nsnntpnewsgrouplist
+initxover
+print
+firstmsg
+print
+lastmsg
+status
+ifdef
+havepanes
+fepanechanged
+mpane
+prfalse
+msgpanepastpasswordcheck
+endif
+nsassertion
+firstmsg
+lastmsg
+first
+last
+mlastprocessednumber
+mlastmsgnumber
+mset
+addrange
+mlastprocessednumber
+mlastmsgnumber
+mfirstmsgnumber
+firstmsg
+mlastmsgnumber
+lastmsg
+mlastprocessednumber
+firstmsg
+firstmsg
+status
+define
+fromheader
+from
+define
+subectheader
+subject
+define
+dateheader
+date
+nsresult
+nsnntpnewsgrouplist
+parseline
+line
+pruint
+messagenumber
+nsresult
+rv
+nsok
+nscomptr
+nsimsgdbhdr
+newmsghdr
+datestr
+nsnull
+authorstr
+nsnull
+line
+messagenumber
+nserrornullpointer
+next
+line
+define
+gettoken
+line
+next
+next
+line
+plstrchr
+line
+next
+next
+gettoken
+messagenumber
+atol
+line
+atol
+line
+nserrorunexpected
+mnewsdb
+createnewhdr
+messagenumber
+getteraddrefs
+newmsghdr
+nsassertion
+newmsghdr
+createnewhdr
+didn
+fail
+but
+it
+returned
+newmsghdr
+newmsghdr
+nserrornullpointer
+gettoken
+line
+subject
+line
+pruint
+subjectlen
+strlen
+line
+pruint
+flags
+rv
+newmsghdr
+getflags
+flags
+nsfailed
+rv
+rv
+nsxpidlcstring
+modifiedsubject
+nsmsgstripre
+subject
+subjectlen
+gettercopies
+modifiedsubject
+flags
+msgflaghasre
+rv
+newmsghdr
+setflags
+flags
+nsfailed
+rv
+rv
+flags
+msgflagread
+rv
+newmsghdr
+orflags
+msgflagnew
+flags
+rv
+newmsghdr
+setsubject
+modifiedsubject
+isempty
+subject
+modifiedsubject
+get
+nsfailed
+rv
+rv
+gettoken
+line
+authorstr
+line
+rv
+newmsghdr
+setauthor
+line
+nsfailed
+rv
+rv
+gettoken
+line
+datestr
+line
+prtime
+date
+prstatus
+status
+prparsetimestring
+line
+prfalse
+date
+prsuccess
+status
+rv
+newmsghdr
+setdate
+date
+nsfailed
+rv
+rv
+gettoken
+line
+strippedid
+line
+strippedid
+strippedid
+lastchar
+strippedid
+plstrlen
+strippedid
+lastchar
+lastchar
+rv
+newmsghdr
+setmessageid
+strippedid
+nsfailed
+rv
+rv
+gettoken
+line
+rv
+newmsghdr
+setreferences
+line
+nsfailed
+rv
+rv
+gettoken
+line
+pruint
+msgsize
+msgsize
+line
+atol
+line
+rv
+newmsghdr
+setmessagesize
+msgsize
+nsfailed
+rv
+rv
+gettoken
+line
+pruint
+numlines
+numlines
+line
+atol
+line
+rv
+newmsghdr
+setlinecount
+numlines
+nsfailed
+rv
+rv
+gettoken
+nscomptr
+nsimsgfolder
+folder
+doqueryinterface
+mnewsfolder
+rv
+nsensuresuccess
+rv
+rv
+mfilterlist
+rv
+folder
+getfilterlist
+mmsgwindow
+getteraddrefs
+mfilterlist
+nsensuresuccess
+rv
+rv
+maddhdrtodb
+prtrue
+pruint
+filtercount
+mfilterlist
+rv
+mfilterlist
+getfiltercount
+filtercount
+nsensuresuccess
+rv
+rv
+filtercount
+nsxpidlcstring
+subject
+rv
+newmsghdr
+getsubject
+gettercopies
+subject
+nsensuresuccess
+rv
+rv
+pruint
+headerssize
+authorstr
+headerssize
+strlen
+fromheader
+strlen
+authorstr
+subject
+isempty
+headerssize
+strlen
+subectheader
+subject
+length
+datestr
+headerssize
+strlen
+dateheader
+strlen
+datestr
+headerssize
+headers
+prmalloc
+headerssize
+headerpos
+headers
+headers
+nserroroutofmemory
+authorstr
+plstrcpy
+headerpos
+fromheader
+headerpos
+strlen
+fromheader
+plstrcpy
+headerpos
+authorstr
+headerpos
+strlen
+authorstr
+headerpos
+headerpos
+subject
+isempty
+plstrcpy
+headerpos
+subectheader
+headerpos
+strlen
+subectheader
+plstrcpy
+headerpos
+subject
+get
+headerpos
+subject
+length
+headerpos
+headerpos
+datestr
+plstrcpy
+headerpos
+dateheader
+headerpos
+strlen
+dateheader
+plstrcpy
+headerpos
+datestr
+headerpos
+strlen
+datestr
+headerpos
+headerpos
+mnewmsghdr
+newmsghdr
+rv
+mfilterlist
+applyfilterstohdr
+nsmsgfiltertype
+newsrule
+newmsghdr
+folder
+mnewsdb
+headers
+headerssize
+mmsgwindow
+prfree
+headers
+nsensuresuccess
+rv
+rv
+maddhdrtodb
+rv
+mnewsdb
+addnewhdrtodb
+newmsghdr
+prtrue
+nsfailed
+rv
+rv
+nsok
+nsimethodimp
+nsnntpnewsgrouplist
+applyfilterhit
+nsimsgfilter
+afilter
+nsimsgwindow
+amsgwindow
+prbool
+aapplymore
+nsensureargpointer
+afilter
+nsensureargpointer
+aapplymore
+nsensuretrue
+mnewmsghdr
+nserrorunexpected
+nsensuretrue
+mnewsdb
+nserrorunexpected
+aapplymore
+prtrue
+nscomptr
+nsisupportsarray
+filteractionlist
+nsresult
+rv
+nsnewisupportsarray
+getteraddrefs
+filteractionlist
+nsensuresuccess
+rv
+rv
+rv
+afilter
+getsortedactionlist
+filteractionlist
+nsensuresuccess
+rv
+rv
+pruint
+numactions
+rv
+filteractionlist
+count
+numactions
+nsensuresuccess
+rv
+rv
+prbool
+loggingenabled
+prfalse
+mfilterlist
+numactions
+mfilterlist
+getloggingenabled
+loggingenabled
+pruint
+actionindex
+actionindex
+numactions
+actionindex
+nscomptr
+nsimsgruleaction
+filteraction
+filteractionlist
+queryelementat
+actionindex
+nsgetiid
+nsimsgruleaction
+getteraddrefs
+filteraction
+filteraction
+nsmsgruleactiontype
+actiontype
+nssucceeded
+filteraction
+gettype
+actiontype
+actiontype
+nsmsgfilteraction
+delete
+maddhdrtodb
+prfalse
+nsmsgfilteraction
+markread
+mnewsdb
+markhdrread
+mnewmsghdr
+prtrue
+nsnull
+nsmsgfilteraction
+killthread
+pruint
+newflags
+mnewmsghdr
+orflags
+msgflagignored
+newflags
+nsmsgfilteraction
+watchthread
+pruint
+newflags
+mnewmsghdr
+orflags
+msgflagwatched
+newflags
+nsmsgfilteraction
+markflagged
+mnewmsghdr
+markflagged
+prtrue
+nsmsgfilteraction
+changepriority
+nsmsgpriorityvalue
+filterpriority
+filteraction
+getpriority
+filterpriority
+mnewmsghdr
+setpriority
+filterpriority
+nsmsgfilteraction
+label
+nsmsglabelvalue
+filterlabel
+filteraction
+getlabel
+filterlabel
+nsmsgkey
+msgkey
+mnewmsghdr
+getmessagekey
+msgkey
+mnewsdb
+setlabel
+msgkey
+filterlabel
+nsassertion
+unexpected
+action
+loggingenabled
+afilter
+logrulehit
+filteraction
+mnewmsghdr
+nsok
+nsresult
+nsnntpnewsgrouplist
+processxoverline
+line
+pruint
+status
+pruint
+messagenumber
+prbool
+readp
+prfalse
+nsresult
+rv
+nsok
+nsassertion
+line
+ptr
+line
+nserrornullpointer
+mnewsdb
+xoverline
+plstrdup
+line
+xoverline
+nserroroutofmemory
+rv
+parseline
+xoverline
+messagenumber
+plstrfree
+xoverline
+xoverline
+nsnull
+nsfailed
+rv
+rv
+nserrornotinitialized
+nsassertion
+messagenumber
+mlastprocessednumber
+messagenumber
+bad
+messagenumber
+mset
+messagenumber
+mlastprocessednumber
+mset
+addrange
+mlastprocessednumber
+messagenumber
+mlastprocessednumber
+messagenumber
+mknownarts
+set
+result
+mknownarts
+set
+add
+messagenumber
+result
+status
+status
+result
+nserrornotinitialized
+messagenumber
+mlastmsgnumber
+mlastmsgnumber
+messagenumber
+messagenumber
+mfirstmsgnumber
+mfirstmsgnumber
+messagenumber
+mset
+readp
+mset
+ismember
+messagenumber
+mlastmsgnumber
+mfirstmsgnumber
+print
+totaltodownload
+mlastmsgtodownload
+mfirstmsgtodownload
+print
+lastindex
+mlastprocessednumber
+mfirstmsgnumber
+print
+numdownloaded
+lastindex
+print
+totindex
+mlastmsgnumber
+mfirstmsgnumber
+print
+percent
+totindex
+print
+numdownloaded
+totaltodownload
+prtime
+elapsedtime
+llsub
+elapsedtime
+prnow
+mlaststatusupdate
+llcmp
+elapsedtime
+minstatusupdateinterval
+lastindex
+totindex
+nsautostring
+numdownloadedstr
+numdownloadedstr
+appendint
+numdownloaded
+nsautostring
+totaltodownloadstr
+totaltodownloadstr
+appendint
+totaltodownload
+nsxpidlstring
+statusstring
+nscomptr
+nsistringbundleservice
+bundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsistringbundle
+bundle
+rv
+bundleservice
+createbundle
+newsmsgsurl
+getteraddrefs
+bundle
+nsensuresuccess
+rv
+rv
+prunichar
+formatstrings
+numdownloadedstr
+get
+totaltodownloadstr
+get
+rv
+bundle
+formatstringfromname
+nsliteralstring
+downloadingheaders
+get
+formatstrings
+gettercopies
+statusstring
+nsensuresuccess
+rv
+rv
+ifdef
+debugnews
+print
+elapsed
+llli
+elapsed
+elapsedtime
+printf
+usecs
+elapsed
+since
+last
+update
+elapsed
+endif
+setprogressstatus
+statusstring
+mlaststatusupdate
+prnow
+percent
+mlastpercent
+setprogressbarpercent
+percent
+mlastpercent
+percent
+nsok
+nsresult
+nsnntpnewsgrouplist
+resetxover
+mlastmsgnumber
+mfirstmsgnumber
+mlastprocessednumber
+mlastmsgnumber
+nsresult
+nsnntpnewsgrouplist
+processnonxover
+nserrornotimplemented
+nsresult
+nsnntpnewsgrouplist
+finishxoverline
+status
+newstatus
+nsresult
+rv
+msgnewsknown
+status
+mlastprocessednumber
+mlastmsgnumber
+mset
+addrange
+mlastprocessednumber
+mlastmsgnumber
+mnewsdb
+mnewsdb
+close
+prtrue
+mnewsdb
+nsnull
+mknownarts
+set
+print
+set
+firstnonmember
+firstpossible
+lastpossible
+mfinishingxover
+mfinishingxover
+prtrue
+mrunningurl
+nsnull
+mlastmsgnumber
+nsautostring
+firststr
+firststr
+appendint
+mlastprocessednumber
+mfirstmsgnumber
+nsautostring
+laststr
+laststr
+appendint
+mlastmsgnumber
+mfirstmsgnumber
+nsxpidlstring
+statusstring
+nscomptr
+nsistringbundleservice
+bundleservice
+dogetservice
+nsstringbundlecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsistringbundle
+bundle
+rv
+bundleservice
+createbundle
+newsmsgsurl
+getteraddrefs
+bundle
+nsensuresuccess
+rv
+rv
+prunichar
+formatstrings
+firststr
+get
+laststr
+get
+rv
+bundle
+formatstringfromname
+nsliteralstring
+downloadingarticles
+get
+formatstrings
+gettercopies
+statusstring
+nsensuresuccess
+rv
+rv
+setprogressstatus
+statusstring
+newstatus
+newstatus
+nsok
+nsresult
+nsnntpnewsgrouplist
+clearxoverstate
+nsok
+nsnntpnewsgrouplist
+setprogressbarpercent
+print
+percent
+mrunningurl
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+nscomptr
+nsimsgstatusfeedback
+feedback
+mailnewsurl
+getstatusfeedback
+getteraddrefs
+feedback
+feedback
+feedback
+showprogress
+percent
+nsnntpnewsgrouplist
+setprogressstatus
+prunichar
+message
+mrunningurl
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+mrunningurl
+mailnewsurl
+nscomptr
+nsimsgstatusfeedback
+feedback
+mailnewsurl
+getstatusfeedback
+getteraddrefs
+feedback
+feedback
+feedback
+showstatusstring
+message
+nsimethodimp
+nsnntpnewsgrouplist
+setgetoldmessages
+prbool
+agetoldmessages
+mgetoldmessages
+agetoldmessages
+nsok
+nsimethodimp
+nsnntpnewsgrouplist
+getgetoldmessages
+prbool
+agetoldmessages
+nsensurearg
+agetoldmessages
+agetoldmessages
+mgetoldmessages
+nsok
\ No newline at end of file
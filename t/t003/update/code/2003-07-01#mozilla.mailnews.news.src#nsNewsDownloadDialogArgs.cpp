@@ -0,0 +1,109 @@
+nsnewsdownloaddialogargs
+nscrt
+nsreadableutils
+nsnewsdownloaddialogargs
+nsnewsdownloaddialogargs
+mgroupname
+marticlecount
+mserverkey
+mhitok
+prfalse
+mdownloadall
+prfalse
+nsnewsdownloaddialogargs
+nsnewsdownloaddialogargs
+nsimplisupports
+nsnewsdownloaddialogargs
+nsinewsdownloaddialogargs
+nsimethodimp
+nsnewsdownloaddialogargs
+getgroupname
+agroupname
+nsensureargpointer
+agroupname
+agroupname
+tonewcstring
+mgroupname
+nsok
+nsimethodimp
+nsnewsdownloaddialogargs
+setgroupname
+agroupname
+nsensureargpointer
+agroupname
+mgroupname
+agroupname
+nsok
+nsimethodimp
+nsnewsdownloaddialogargs
+getarticlecount
+print
+aarticlecount
+nsensureargpointer
+aarticlecount
+aarticlecount
+marticlecount
+nsok
+nsimethodimp
+nsnewsdownloaddialogargs
+setarticlecount
+print
+aarticlecount
+marticlecount
+aarticlecount
+nsok
+nsimethodimp
+nsnewsdownloaddialogargs
+getserverkey
+aserverkey
+nsensureargpointer
+aserverkey
+aserverkey
+tonewcstring
+mserverkey
+nsok
+nsimethodimp
+nsnewsdownloaddialogargs
+setserverkey
+aserverkey
+nsensureargpointer
+aserverkey
+mserverkey
+aserverkey
+nsok
+nsimethodimp
+nsnewsdownloaddialogargs
+gethitok
+prbool
+ahitok
+nsensureargpointer
+ahitok
+ahitok
+mhitok
+nsok
+nsimethodimp
+nsnewsdownloaddialogargs
+sethitok
+prbool
+ahitok
+mhitok
+ahitok
+nsok
+nsimethodimp
+nsnewsdownloaddialogargs
+getdownloadall
+prbool
+adownloadall
+nsensureargpointer
+adownloadall
+adownloadall
+mdownloadall
+nsok
+nsimethodimp
+nsnewsdownloaddialogargs
+setdownloadall
+prbool
+adownloadall
+mdownloadall
+adownloadall
+nsok
\ No newline at end of file
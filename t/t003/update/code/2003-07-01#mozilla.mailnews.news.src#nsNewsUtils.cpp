@@ -0,0 +1,84 @@
+msgcore
+nntpcore
+nsnewsutils
+nsreadableutils
+nsresult
+nsparsenewsmessageuri
+uri
+nscstring
+folderuri
+pruint
+key
+nsensureargpointer
+uri
+nsensureargpointer
+key
+nscautostring
+uristr
+uri
+print
+keyseparator
+uristr
+findchar
+keyseparator
+print
+keyendseparator
+uristr
+findcharinset
+keyseparator
+uristr
+left
+folderuri
+keyseparator
+folderuri
+cut
+nscautostring
+keystr
+keyendseparator
+uristr
+mid
+keystr
+keyseparator
+keyendseparator
+keyseparator
+uristr
+right
+keystr
+uristr
+length
+keyseparator
+print
+errorcode
+key
+keystr
+tointeger
+errorcode
+errorcode
+nserrorfailure
+nsresult
+nscreatenewsbasemessageuri
+baseuri
+basemessageuri
+basemessageuri
+nserrornullpointer
+nscautostring
+tailuri
+baseuri
+tailuri
+find
+knewsrooturi
+tailuri
+cut
+plstrlen
+knewsrooturi
+nscautostring
+baseuristr
+knewsmessagerooturi
+baseuristr
+tailuri
+basemessageuri
+tonewcstring
+baseuristr
+basemessageuri
+nserroroutofmemory
+nsok
\ No newline at end of file
@@ -0,0 +1,3276 @@
+msgcore
+nntpcore
+nsisupportsobsolete
+nsmsgnewscid
+nsinntpurl
+nsnntpprotocol
+nsnntpnewsgrouppost
+nsimsgmailsession
+nsimsgidentity
+nsstring
+nsreadableutils
+nsnewsutils
+nsnewsdatabase
+nsmsgdbcid
+nsmsgbasecid
+nsiprefbranch
+nsiprefservice
+nscrt
+nsnntpservice
+nsichannel
+nsiloadgroup
+nscomptr
+nsidirectoryservice
+nsimsgaccountmanager
+nsimessengermigrator
+nsinntpincomingserver
+nsicmdlinehandler
+nsicategorymanager
+nsidocshell
+nsidocshellloadinfo
+nsimessengerwindowservice
+nsiwindowmediator
+nsidomwindowinternal
+nsimsgsearchsession
+nsappdirectoryservicedefs
+nsiwebnavigation
+nsiioservice
+nsnetcid
+nsiprompt
+nsirdfservice
+nsnewsdownloader
+prprf
+nsicacheservice
+nsescape
+nsnetutil
+undef
+getport
+undef
+setport
+define
+prefnetworkhostsnntpserver
+network
+hosts
+nntpserver
+define
+prefmailrootnntp
+mail
+root
+nntp
+nsdefinecid
+kcnewsdb
+nsnewsdbcid
+nsdefinecid
+kmessengermigratorcid
+nsmessengermigratorcid
+nsdefinecid
+kioservicecid
+nsioservicecid
+nsdefinecid
+kcacheservicecid
+nscacheservicecid
+nsnntpservice
+nsnntpservice
+mprintingoperation
+prfalse
+mopenattachmentoperation
+prfalse
+nsnntpservice
+nsnntpservice
+nsimplthreadsafeaddref
+nsnntpservice
+nsimplthreadsaferelease
+nsnntpservice
+nsimplqueryinterface
+nsnntpservice
+nsinntpservice
+nsimsgmessageservice
+nsiprotocolhandler
+nsimsgprotocolinfo
+nsicmdlinehandler
+nsimsgmessagefetchpartservice
+nsicontenthandler
+nsimethodimp
+nsnntpservice
+savemessagetodisk
+amessageuri
+nsifilespec
+afile
+prbool
+aadddummyenvelope
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+prbool
+canonicallineending
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+nsok
+nsensureargpointer
+amessageuri
+plstrncmp
+amessageuri
+knewsmessagerooturi
+knewsmessagerooturilen
+rv
+nserrorunexpected
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgfolder
+folder
+nsmsgkey
+key
+nsmsgkeynone
+rv
+decomposenewsmessageuri
+amessageuri
+getteraddrefs
+folder
+key
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+messageidurl
+rv
+createmessageidurl
+folder
+key
+gettercopies
+messageidurl
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiuri
+url
+rv
+constructnntpurl
+messageidurl
+get
+aurllistener
+amsgwindow
+amessageuri
+nsinntpurl
+actionsavemessagetodisk
+getteraddrefs
+url
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgmessageurl
+msgurl
+doqueryinterface
+url
+msgurl
+msgurl
+setadddummyenvelope
+aadddummyenvelope
+msgurl
+setcanonicallineending
+canonicallineending
+prbool
+hasmsgoffline
+prfalse
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+url
+folder
+nscomptr
+nsimsgnewsfolder
+newsfolder
+doqueryinterface
+folder
+newsfolder
+mailnewsurl
+folder
+hasmsgoffline
+key
+hasmsgoffline
+mailnewsurl
+setmsgisinlocalcache
+hasmsgoffline
+mailnewsurl
+nscomptr
+nsistreamlistener
+saveaslistener
+mailnewsurl
+getsaveaslistener
+aadddummyenvelope
+afile
+getteraddrefs
+saveaslistener
+rv
+displaymessage
+amessageuri
+saveaslistener
+nsnull
+aurllistener
+nsnull
+aurl
+rv
+nsresult
+nsnntpservice
+createmessageidurl
+nsimsgfolder
+folder
+nsmsgkey
+key
+url
+nsensureargpointer
+folder
+nsensureargpointer
+url
+key
+nsmsgkeynone
+nserrorinvalidarg
+nsresult
+rv
+nscomptr
+nsimsgnewsfolder
+newsfolder
+doqueryinterface
+folder
+rv
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+messageid
+rv
+newsfolder
+getmessageidforkey
+key
+gettercopies
+messageid
+nsensuresuccess
+rv
+rv
+escapedmessageid
+nsescape
+messageid
+get
+urlpath
+escapedmessageid
+nserroroutofmemory
+nscomptr
+nsimsgfolder
+rootfolder
+rv
+folder
+getrootfolder
+getteraddrefs
+rootfolder
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+rootfolderuri
+rv
+rootfolder
+geturi
+gettercopies
+rootfolderuri
+nsensuresuccess
+rv
+rv
+nscautostring
+uri
+uri
+rootfolderuri
+get
+uri
+uri
+escapedmessageid
+url
+nscrt
+strdup
+uri
+get
+prfreeif
+escapedmessageid
+url
+nserroroutofmemory
+nsok
+nsimethodimp
+nsnntpservice
+displaymessage
+amessageuri
+nsisupports
+adisplayconsumer
+nsimsgwindow
+amsgwindow
+nsiurllistener
+aurllistener
+acharsetoverride
+nsiuri
+aurl
+nsresult
+rv
+nsok
+nsensureargpointer
+amessageuri
+nscomptr
+nsimsgfolder
+folder
+nsmsgkey
+key
+nsmsgkeynone
+rv
+decomposenewsmessageuri
+amessageuri
+getteraddrefs
+folder
+key
+nsensuresuccess
+rv
+rv
+nscautostring
+urlstr
+nsxpidlcstring
+messageidurl
+rv
+createmessageidurl
+folder
+key
+gettercopies
+messageidurl
+nsensuresuccess
+rv
+rv
+urlstr
+messageidurl
+get
+mprintingoperation
+urlstr
+append
+header
+print
+nsnewsaction
+action
+nsinntpurl
+actionfetcharticle
+mopenattachmentoperation
+action
+nsinntpurl
+actionfetchpart
+nscomptr
+nsiuri
+url
+rv
+constructnntpurl
+urlstr
+get
+aurllistener
+amsgwindow
+amessageuri
+action
+getteraddrefs
+url
+nsensuresuccess
+rv
+rv
+nssucceeded
+rv
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+url
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsginurl
+inurl
+doqueryinterface
+msgurl
+rv
+nsensuresuccess
+rv
+rv
+inurl
+setcharsetoverride
+acharsetoverride
+prbool
+shouldstoremsgoffline
+prfalse
+prbool
+hasmsgoffline
+prfalse
+folder
+nscomptr
+nsimsgnewsfolder
+newsfolder
+doqueryinterface
+folder
+newsfolder
+folder
+shouldstoremsgoffline
+key
+shouldstoremsgoffline
+folder
+hasmsgoffline
+key
+hasmsgoffline
+msgurl
+setmsgisinlocalcache
+hasmsgoffline
+weareoffline
+hasmsgoffline
+nscomptr
+nsimsgincomingserver
+server
+rv
+folder
+getserver
+getteraddrefs
+server
+server
+server
+displayofflinemsg
+amsgwindow
+newsfolder
+setsavearticleoffline
+shouldstoremsgoffline
+nscomptr
+nsidocshell
+docshell
+doqueryinterface
+adisplayconsumer
+rv
+nssucceeded
+rv
+docshell
+nscomptr
+nsidocshellloadinfo
+loadinfo
+mopenattachmentoperation
+docshell
+createloadinfo
+getteraddrefs
+loadinfo
+loadinfo
+setloadtype
+nsidocshellloadinfo
+loadlink
+rv
+docshell
+loaduri
+url
+loadinfo
+nsiwebnavigation
+loadflagsnone
+prfalse
+nscomptr
+nsistreamlistener
+astreamlistener
+doqueryinterface
+adisplayconsumer
+rv
+nssucceeded
+rv
+astreamlistener
+nscomptr
+nsichannel
+achannel
+nscomptr
+nsiloadgroup
+aloadgroup
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+url
+rv
+nssucceeded
+rv
+mailnewsurl
+amsgwindow
+mailnewsurl
+setmsgwindow
+amsgwindow
+mailnewsurl
+getloadgroup
+getteraddrefs
+aloadgroup
+rv
+newchannel
+url
+getteraddrefs
+achannel
+nsfailed
+rv
+rv
+rv
+achannel
+setloadgroup
+aloadgroup
+nsfailed
+rv
+rv
+nscomptr
+nsisupports
+actxt
+doqueryinterface
+url
+rv
+achannel
+asyncopen
+astreamlistener
+actxt
+rv
+runnewsurl
+url
+amsgwindow
+adisplayconsumer
+aurl
+aurl
+url
+nsifaddref
+aurl
+rv
+nsimethodimp
+nsnntpservice
+fetchmessage
+nsimsgfolder
+folder
+nsmsgkey
+key
+nsimsgwindow
+amsgwindow
+nsisupports
+aconsumer
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+nsresult
+rv
+nsok
+nsensureargpointer
+folder
+nscomptr
+nsimsgnewsfolder
+msgnewsfolder
+doqueryinterface
+folder
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgdbhdr
+hdr
+rv
+folder
+getmessageheader
+key
+getteraddrefs
+hdr
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+originalmessageuri
+rv
+folder
+geturiformsg
+hdr
+gettercopies
+originalmessageuri
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+messageidurl
+rv
+createmessageidurl
+folder
+key
+gettercopies
+messageidurl
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiuri
+url
+rv
+constructnntpurl
+messageidurl
+aurllistener
+amsgwindow
+originalmessageuri
+get
+nsinntpurl
+actionfetcharticle
+getteraddrefs
+url
+nsensuresuccess
+rv
+rv
+rv
+runnewsurl
+url
+amsgwindow
+aconsumer
+nsensuresuccess
+rv
+rv
+aurl
+aurl
+url
+nsifaddref
+aurl
+rv
+nsimethodimp
+nsnntpservice
+fetchmimepart
+nsiuri
+auri
+amessageuri
+nsisupports
+adisplayconsumer
+nsimsgwindow
+amsgwindow
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+auri
+msgurl
+setmsgwindow
+amsgwindow
+aurllistener
+msgurl
+registerlistener
+aurllistener
+nscomptr
+nsimsgmessageurl
+msgmessageurl
+doqueryinterface
+auri
+runnewsurl
+msgurl
+amsgwindow
+adisplayconsumer
+nsimethodimp
+nsnntpservice
+openattachment
+acontenttype
+afilename
+aurl
+amessageuri
+nsisupports
+adisplayconsumer
+nsimsgwindow
+amsgwindow
+nsiurllistener
+aurllistener
+nscomptr
+nsiuri
+url
+nsresult
+rv
+nsok
+nscautostring
+newsurl
+newsurl
+aurl
+newsurl
+type
+newsurl
+acontenttype
+newsurl
+filename
+newsurl
+afilename
+newuri
+newsurl
+nsnull
+nsnull
+getteraddrefs
+url
+nssucceeded
+rv
+url
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+url
+msgurl
+setmsgwindow
+amsgwindow
+msgurl
+setfilename
+nsdependentcstring
+afilename
+aurllistener
+msgurl
+registerlistener
+aurllistener
+nscomptr
+nsidocshell
+docshell
+doqueryinterface
+adisplayconsumer
+rv
+nssucceeded
+rv
+docshell
+nscomptr
+nsidocshellloadinfo
+loadinfo
+docshell
+createloadinfo
+getteraddrefs
+loadinfo
+loadinfo
+setloadtype
+nsidocshellloadinfo
+loadlink
+docshell
+loaduri
+url
+loadinfo
+nsiwebnavigation
+loadflagsnone
+prfalse
+runnewsurl
+url
+amsgwindow
+adisplayconsumer
+nsok
+nsimethodimp
+nsnntpservice
+geturlforuri
+amessageuri
+nsiuri
+aurl
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+nsok
+nsensureargpointer
+amessageuri
+plstrncmp
+amessageuri
+knewsmessagerooturi
+knewsmessagerooturilen
+rv
+nserrorunexpected
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgfolder
+folder
+nsmsgkey
+key
+nsmsgkeynone
+rv
+decomposenewsmessageuri
+amessageuri
+getteraddrefs
+folder
+key
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+messageidurl
+rv
+createmessageidurl
+folder
+key
+gettercopies
+messageidurl
+nsensuresuccess
+rv
+rv
+rv
+constructnntpurl
+messageidurl
+get
+nsnull
+amsgwindow
+amessageuri
+nsinntpurl
+actionfetcharticle
+aurl
+nsensuresuccess
+rv
+rv
+folder
+aurl
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+aurl
+mailnewsurl
+prbool
+uselocalcache
+prfalse
+folder
+hasmsgoffline
+key
+uselocalcache
+mailnewsurl
+setmsgisinlocalcache
+uselocalcache
+rv
+nsimethodimp
+nsnntpservice
+decomposenewsuri
+uri
+nsimsgfolder
+folder
+nsmsgkey
+amsgkey
+nsresult
+rv
+nscrt
+strncmp
+uri
+knewsmessagerooturi
+knewsmessagerooturilen
+rv
+decomposenewsmessageuri
+uri
+folder
+amsgkey
+nsensuresuccess
+rv
+rv
+rv
+getfolderfromuri
+uri
+folder
+nsensuresuccess
+rv
+rv
+amsgkey
+nsmsgkeynone
+rv
+nsresult
+nsnntpservice
+decomposenewsmessageuri
+amessageuri
+nsimsgfolder
+afolder
+nsmsgkey
+amsgkey
+nsensureargpointer
+amessageuri
+nsensureargpointer
+afolder
+nsensureargpointer
+amsgkey
+nsresult
+rv
+nsok
+nscautostring
+folderuri
+plstrncmp
+amessageuri
+knewsrooturi
+knewsrooturilen
+nscautostring
+messageuri
+amessageuri
+knewsrooturilen
+print
+slashpos
+messageuri
+findchar
+slashpos
+knotfound
+slashpos
+messageuri
+length
+nscautostring
+messageid
+print
+questionpos
+messageuri
+findchar
+questionpos
+knotfound
+questionpos
+messageuri
+length
+print
+atpos
+messageuri
+find
+atpos
+knotfound
+print
+messageidlength
+questionpos
+slashpos
+messageuri
+mid
+messageid
+slashpos
+messageidlength
+nsunescape
+nsconstcast
+messageid
+get
+nscomptr
+nsimsgmailsession
+mailsession
+dogetservice
+nsmsgmailsessioncontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupportsarray
+msgwindows
+rv
+mailsession
+getmsgwindowsarray
+getteraddrefs
+msgwindows
+nsensuresuccess
+rv
+rv
+pruint
+nummsgwindows
+msgwindows
+count
+nummsgwindows
+pruint
+windowindex
+windowindex
+nummsgwindows
+windowindex
+nscomptr
+nsimsgwindow
+msgwindow
+doqueryelementat
+msgwindows
+windowindex
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgfolder
+openfolder
+msgwindow
+getopenfolder
+getteraddrefs
+openfolder
+openfolder
+nscomptr
+nsimsgnewsfolder
+newsfolder
+doqueryinterface
+openfolder
+newsfolder
+nscomptr
+nsimsgdatabase
+msgdatabase
+openfolder
+getmsgdatabase
+msgwindow
+getteraddrefs
+msgdatabase
+msgdatabase
+nscomptr
+nsimsgdbhdr
+msghdr
+msgdatabase
+getmsghdrformessageid
+messageid
+get
+getteraddrefs
+msghdr
+msghdr
+msghdr
+getmessagekey
+amsgkey
+nsaddref
+afolder
+openfolder
+endif
+rv
+nsparsenewsmessageuri
+amessageuri
+folderuri
+amsgkey
+nsensuresuccess
+rv
+rv
+rv
+getfolderfromuri
+folderuri
+get
+afolder
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsnntpservice
+getfolderfromuri
+auri
+nsimsgfolder
+afolder
+nsensureargpointer
+auri
+nsensureargpointer
+afolder
+nscomptr
+nsiuri
+uri
+nsresult
+rv
+nsnewuri
+getteraddrefs
+uri
+nsdependentcstring
+auri
+nsensuresuccess
+rv
+rv
+nscautostring
+hostname
+rv
+uri
+getasciihost
+hostname
+nsensuresuccess
+rv
+rv
+nscautostring
+path
+rv
+uri
+getpath
+path
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgincomingserver
+server
+rv
+accountmanager
+findserver
+hostname
+get
+nntp
+getteraddrefs
+server
+nsensuresuccess
+rv
+rv
+nscomptr
+nsifolder
+rootfolder
+rv
+server
+getrootfolder
+getteraddrefs
+rootfolder
+nsensuresuccess
+rv
+rv
+path
+length
+rootfolder
+queryinterface
+nsgetiid
+nsimsgfolder
+afolder
+nscomptr
+nsisupports
+subfolder
+rv
+rootfolder
+getchildnamed
+nsconvertasciitoucs
+path
+get
+get
+getteraddrefs
+subfolder
+nsensuresuccess
+rv
+rv
+callqueryinterface
+subfolder
+afolder
+nsimethodimp
+nsnntpservice
+copymessage
+asrcmessageuri
+nsistreamlistener
+amailboxcopyhandler
+prbool
+movemessage
+nsiurllistener
+aurllistener
+nsimsgwindow
+amsgwindow
+nsiuri
+aurl
+nsensureargpointer
+asrcmessageuri
+nsensureargpointer
+amailboxcopyhandler
+nsresult
+rv
+nscomptr
+nsisupports
+streamsupport
+doqueryinterface
+amailboxcopyhandler
+rv
+nsensuresuccess
+rv
+rv
+rv
+displaymessage
+asrcmessageuri
+streamsupport
+amsgwindow
+aurllistener
+nsnull
+aurl
+rv
+nsimethodimp
+nsnntpservice
+copymessages
+nsmsgkeyarray
+keys
+nsimsgfolder
+srcfolder
+nsistreamlistener
+amailboxcopyhandler
+prbool
+movemessage
+nsiurllistener
+aurllistener
+nsimsgwindow
+amsgwindow
+nsiuri
+aurl
+nserrornotimplemented
+findnewsserverentry
+newsgroup
+nsinntpincomingserver
+server
+findnewsserverentry
+prbool
+nsnntpservice
+findnewsserverwithgroup
+nsisupports
+aelement
+data
+nsresult
+rv
+nscomptr
+nsinntpincomingserver
+newsserver
+doqueryinterface
+aelement
+rv
+nsfailed
+rv
+newsserver
+prtrue
+findnewsserverentry
+entry
+findnewsserverentry
+data
+prbool
+containsgroup
+prfalse
+rv
+newsserver
+containsnewsgroup
+entry
+newsgroup
+containsgroup
+nsfailed
+rv
+prtrue
+containsgroup
+entry
+server
+newsserver
+prfalse
+prtrue
+nsresult
+nsnntpservice
+findserverwithnewsgroup
+nscstring
+host
+nscstring
+groupname
+nsresult
+rv
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsisupportsarray
+servers
+rv
+accountmanager
+getallservers
+getteraddrefs
+servers
+nsensuresuccess
+rv
+rv
+findnewsserverentry
+serverinfo
+serverinfo
+server
+nsnull
+serverinfo
+newsgroup
+groupname
+get
+servers
+enumerateforwards
+findnewsserverwithgroup
+serverinfo
+serverinfo
+server
+nscomptr
+nsimsgincomingserver
+server
+doqueryinterface
+serverinfo
+server
+nsxpidlcstring
+thishostname
+rv
+server
+getrealhostname
+gettercopies
+thishostname
+nsensuresuccess
+rv
+rv
+host
+thishostname
+nsok
+nsresult
+nsnntpservice
+findhostfromgroup
+nscstring
+host
+nscstring
+groupname
+nsresult
+rv
+nsok
+nsassertion
+host
+isempty
+host
+is
+empty
+host
+isempty
+nserrorfailure
+rv
+findserverwithnewsgroup
+host
+groupname
+nsensuresuccess
+rv
+rv
+nsok
+nsresult
+nsnntpservice
+setupnntpurlforposting
+nsinntpurl
+nntpurl
+newsgroupsnames
+newspostingurl
+newsurlspec
+nsresult
+rv
+nsok
+nsensureargpointer
+nntpurl
+nsensureargpointer
+newsgroupsnames
+newsgroupsnames
+nserrorfailure
+nscautostring
+host
+list
+nscrt
+strdup
+newsgroupsnames
+token
+nsnull
+rest
+list
+nscautostring
+str
+pruint
+numgroups
+nscautostring
+currentgroup
+token
+nscrt
+strtok
+rest
+rest
+token
+token
+str
+token
+str
+stripwhitespace
+str
+isempty
+nscautostring
+therest
+nscautostring
+currenthost
+str
+find
+knewsrooturi
+str
+right
+therest
+str
+length
+knewsrooturilen
+str
+find
+crtfreeif
+list
+nserrorfailure
+therest
+str
+print
+slashpos
+therest
+findchar
+slashpos
+therest
+left
+currenthost
+slashpos
+therest
+right
+currentgroup
+therest
+length
+slashpos
+rv
+findhostfromgroup
+currenthost
+str
+currentgroup
+str
+nsfailed
+rv
+crtfreeif
+list
+rv
+numgroups
+currenthost
+isempty
+host
+isempty
+host
+currenthost
+host
+equals
+currenthost
+crtfreeif
+list
+nserrornntpnocrossposting
+str
+currenthost
+token
+nscrt
+strtok
+rest
+rest
+crtfreeif
+list
+host
+isempty
+nscomptr
+nsimsgincomingserver
+server
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+accountmanager
+findserver
+nntp
+getteraddrefs
+server
+nssucceeded
+rv
+server
+nsxpidlcstring
+newshostname
+rv
+server
+getrealhostname
+gettercopies
+newshostname
+nssucceeded
+rv
+host
+newshostname
+host
+isempty
+host
+news
+newsurlspec
+prsmprintf
+knewsrooturi
+host
+get
+newsurlspec
+nserrorfailure
+nsok
+nsimethodimp
+nsnntpservice
+generatenewsheadervalsforposting
+newsgroupslist
+newsgroupsheaderval
+newshostheaderval
+nsresult
+rv
+nsok
+nsensureargpointer
+newsgroupslist
+nsensureargpointer
+newsgroupsheaderval
+nsensureargpointer
+newshostheaderval
+nsensureargpointer
+newsgroupslist
+list
+nscrt
+strdup
+newsgroupslist
+token
+nsnull
+rest
+list
+nscautostring
+host
+nscautostring
+str
+nscautostring
+newsgroups
+token
+nscrt
+strtok
+rest
+rest
+token
+token
+str
+token
+str
+stripwhitespace
+str
+isempty
+nscautostring
+currenthost
+nscautostring
+therest
+str
+find
+knewsrooturi
+str
+right
+therest
+str
+length
+knewsrooturilen
+str
+find
+crtfreeif
+list
+nserrorfailure
+therest
+str
+print
+slashpos
+therest
+findchar
+slashpos
+nscautostring
+currentgroup
+therest
+left
+currenthost
+slashpos
+therest
+right
+currentgroup
+therest
+length
+currenthost
+length
+nsassertion
+currentgroup
+isempty
+currentgroup
+is
+empty
+currentgroup
+isempty
+crtfreeif
+list
+nserrorfailure
+newsgroups
+isempty
+newsgroups
+newsgroups
+currentgroup
+rv
+findhostfromgroup
+currenthost
+str
+nsfailed
+rv
+crtfreeif
+list
+rv
+newsgroups
+isempty
+newsgroups
+newsgroups
+str
+currenthost
+isempty
+host
+isempty
+host
+currenthost
+host
+equals
+currenthost
+crtfreeif
+list
+nserrornntpnocrossposting
+str
+currenthost
+token
+nscrt
+strtok
+rest
+rest
+crtfreeif
+list
+newshostheaderval
+tonewcstring
+host
+newshostheaderval
+nserroroutofmemory
+newsgroupsheaderval
+tonewcstring
+newsgroups
+newsgroupsheaderval
+nserroroutofmemory
+nsok
+nsimethodimp
+nsnntpservice
+postmessage
+nsifilespec
+filetopost
+newsgroupsnames
+newspostingurl
+nsiurllistener
+aurllistener
+nsimsgwindow
+amsgwindow
+nsiuri
+retval
+nsensureargpointer
+newsgroupsnames
+newsgroupsnames
+nserrorinvalidarg
+nslockinstance
+nsresult
+rv
+nscomptr
+nsinntpurl
+nntpurl
+docreateinstance
+nsnntpurlcontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+nntpurl
+setnewsaction
+nsinntpurl
+actionpostarticle
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+newsurlspec
+rv
+setupnntpurlforposting
+nntpurl
+newsgroupsnames
+newspostingurl
+gettercopies
+newsurlspec
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+nntpurl
+rv
+nsensuresuccess
+rv
+rv
+mailnewsurl
+nserrorfailure
+mailnewsurl
+setspec
+newsurlspec
+aurllistener
+mailnewsurl
+registerlistener
+aurllistener
+nscomptr
+nsinntpnewsgrouppost
+post
+docreateinstance
+nsnntpnewsgrouppostcontractid
+rv
+nsensuresuccess
+rv
+rv
+post
+nserrorfailure
+rv
+post
+setpostmessagefile
+filetopost
+nsensuresuccess
+rv
+rv
+rv
+nntpurl
+setmessagetopost
+post
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiuri
+url
+doqueryinterface
+nntpurl
+rv
+runnewsurl
+url
+amsgwindow
+nsnull
+nsensuresuccess
+rv
+rv
+retval
+rv
+callqueryinterface
+nntpurl
+retval
+nsunlockinstance
+rv
+nsresult
+nsnntpservice
+constructnntpurl
+urlstring
+nsiurllistener
+aurllistener
+nsimsgwindow
+amsgwindow
+originalmessageuri
+print
+action
+nsiuri
+aurl
+nsresult
+rv
+nsok
+nscomptr
+nsinntpurl
+nntpurl
+docreateinstance
+nsnntpurlcontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+nntpurl
+mailnewsurl
+setmsgwindow
+amsgwindow
+nscomptr
+nsimsgmessageurl
+msgurl
+doqueryinterface
+nntpurl
+msgurl
+seturi
+urlstring
+mailnewsurl
+setspec
+nsdependentcstring
+urlstring
+nntpurl
+setnewsaction
+action
+originalmessageuri
+rv
+msgurl
+setoriginalspec
+originalmessageuri
+nsensuresuccess
+rv
+rv
+aurllistener
+mailnewsurl
+registerlistener
+aurllistener
+aurl
+mailnewsurl
+nsifaddref
+aurl
+rv
+nsresult
+nsnntpservice
+createnewsaccount
+ahostname
+prbool
+aissecure
+print
+aport
+nsimsgincomingserver
+aserver
+nsensureargpointer
+ahostname
+nsensureargpointer
+aserver
+nsresult
+rv
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgaccount
+account
+rv
+accountmanager
+createaccount
+getteraddrefs
+account
+nsfailed
+rv
+rv
+rv
+accountmanager
+createincomingserver
+nsnull
+ahostname
+nntp
+aserver
+nsfailed
+rv
+rv
+rv
+aserver
+setissecure
+aissecure
+nsfailed
+rv
+rv
+rv
+aserver
+setport
+aport
+nsfailed
+rv
+rv
+nscomptr
+nsimsgidentity
+identity
+rv
+accountmanager
+createidentity
+getteraddrefs
+identity
+nsfailed
+rv
+rv
+identity
+nserrorfailure
+rv
+identity
+setcomposehtml
+prfalse
+nsensuresuccess
+rv
+rv
+rv
+aserver
+setvalid
+prfalse
+nsfailed
+rv
+rv
+rv
+account
+setincomingserver
+aserver
+nsfailed
+rv
+rv
+rv
+account
+addidentity
+identity
+nsfailed
+rv
+rv
+rv
+accountmanager
+saveaccountinfo
+nsfailed
+rv
+rv
+nsok
+nsresult
+nsnntpservice
+getprotocolforuri
+nsiuri
+auri
+nsimsgwindow
+amsgwindow
+nsinntpprotocol
+aprotocol
+nscautostring
+hostname
+nscautostring
+scheme
+nscautostring
+path
+print
+port
+nsresult
+rv
+rv
+auri
+getasciihost
+hostname
+rv
+auri
+getscheme
+scheme
+rv
+auri
+getport
+port
+rv
+auri
+getpath
+path
+nscomptr
+nsimsgaccountmanager
+accountmanager
+dogetservice
+nsmsgaccountmanagercontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgincomingserver
+server
+nscomptr
+nsinntpincomingserver
+nntpserver
+ifdef
+debugsspitzer
+printf
+bug
+see
+there
+are
+any
+accounts
+migrating
+should
+be
+pushed
+into
+findserver
+endif
+nscomptr
+nsisupportsarray
+accounts
+rv
+accountmanager
+getaccounts
+getteraddrefs
+accounts
+nsfailed
+rv
+rv
+pruint
+accountcount
+rv
+accounts
+count
+accountcount
+nsfailed
+rv
+rv
+accountcount
+nscomptr
+nsimessengermigrator
+messengermigrator
+dogetservice
+kmessengermigratorcid
+rv
+nsfailed
+rv
+rv
+messengermigrator
+nserrorfailure
+messengermigrator
+upgradeprefs
+rv
+accountmanager
+findserver
+hostname
+get
+nntp
+getteraddrefs
+server
+server
+strcmp
+path
+get
+rv
+auri
+setpath
+hostname
+nsensuresuccess
+rv
+rv
+rv
+accountmanager
+findserver
+nntp
+getteraddrefs
+server
+nsfailed
+rv
+server
+rv
+auri
+sethost
+nsliteralcstring
+news
+nsensuresuccess
+rv
+rv
+rv
+auri
+getasciihost
+hostname
+nsensuresuccess
+rv
+rv
+nsxpidlcstring
+hostbuf
+rv
+server
+gethostname
+gettercopies
+hostbuf
+nsensuresuccess
+rv
+rv
+hostname
+hostbuf
+rv
+auri
+sethost
+hostname
+nsensuresuccess
+rv
+rv
+nsfailed
+rv
+server
+prbool
+issecure
+prfalse
+plstrcasecmp
+snews
+scheme
+get
+issecure
+prtrue
+port
+port
+port
+securenewsport
+rv
+createnewsaccount
+hostname
+get
+issecure
+port
+getteraddrefs
+server
+nsfailed
+rv
+rv
+server
+nserrorfailure
+nntpserver
+doqueryinterface
+server
+rv
+nntpserver
+nsfailed
+rv
+rv
+nscautostring
+spec
+rv
+auri
+getspec
+spec
+nsensuresuccess
+rv
+rv
+nsnewsaction
+action
+nsinntpurl
+actionunknown
+nscomptr
+nsinntpurl
+nntpurl
+doqueryinterface
+auri
+nntpurl
+rv
+nntpurl
+getnewsaction
+action
+nsensuresuccess
+rv
+rv
+plstrncmp
+spec
+get
+knewsmessagerooturi
+knewsmessagerooturilen
+action
+nsinntpurl
+actionfetchpart
+action
+nsinntpurl
+actionfetcharticle
+plstrncmp
+spec
+get
+knewsmessagerooturi
+knewsmessagerooturilen
+endif
+nscomptr
+nsimsgfolder
+folder
+nsmsgkey
+key
+nsmsgkeynone
+rv
+decomposenewsmessageuri
+spec
+get
+getteraddrefs
+folder
+key
+nssucceeded
+rv
+folder
+prbool
+hasmsgoffline
+prfalse
+folder
+hasmsgoffline
+key
+hasmsgoffline
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+auri
+msgurl
+msgurl
+setmsgisinlocalcache
+hasmsgoffline
+rv
+nntpserver
+getnntpconnection
+auri
+amsgwindow
+aprotocol
+nsfailed
+rv
+aprotocol
+nserroroutofmemory
+rv
+prbool
+nsnntpservice
+weareoffline
+nsresult
+rv
+nsok
+prbool
+offline
+prfalse
+nscomptr
+nsiioservice
+netservice
+dogetservice
+kioservicecid
+rv
+nssucceeded
+rv
+netservice
+netservice
+getoffline
+offline
+offline
+nsresult
+nsnntpservice
+runnewsurl
+nsiuri
+auri
+nsimsgwindow
+amsgwindow
+nsisupports
+aconsumer
+nsresult
+rv
+weareoffline
+nsmsgerroroffline
+nscomptr
+nsinntpprotocol
+nntpprotocol
+rv
+getprotocolforuri
+auri
+amsgwindow
+getteraddrefs
+nntpprotocol
+nssucceeded
+rv
+rv
+nntpprotocol
+initialize
+auri
+amsgwindow
+nsfailed
+rv
+rv
+rv
+nntpprotocol
+loadnewsurl
+auri
+aconsumer
+rv
+nsimethodimp
+nsnntpservice
+getnewnews
+nsinntpincomingserver
+nntpserver
+uri
+prbool
+agetold
+nsiurllistener
+aurllistener
+nsimsgwindow
+amsgwindow
+nsiuri
+retval
+nsensureargpointer
+uri
+nslockinstance
+nsresult
+rv
+nsok
+nscomptr
+nsimsgincomingserver
+server
+server
+doqueryinterface
+nntpserver
+nscrt
+strncmp
+uri
+knewsrooturi
+knewsrooturilen
+nscomptr
+nsiuri
+aurl
+rv
+constructnntpurl
+uri
+aurllistener
+amsgwindow
+nsnull
+nsinntpurl
+actiongetnewnews
+getteraddrefs
+aurl
+nsfailed
+rv
+rv
+nscomptr
+nsinntpurl
+nntpurl
+doqueryinterface
+aurl
+nntpurl
+rv
+nntpurl
+setgetoldmessages
+agetold
+nsfailed
+rv
+rv
+nscomptr
+nsimsgmailnewsurl
+mailnewsurl
+doqueryinterface
+aurl
+mailnewsurl
+mailnewsurl
+setupdatingfolder
+prtrue
+rv
+runnewsurl
+aurl
+amsgwindow
+nsnull
+retval
+nsifaddref
+retval
+aurl
+nsassertion
+news
+url
+rv
+nserrorfailure
+nsunlockinstance
+rv
+nsimethodimp
+nsnntpservice
+cancelmessage
+cancelurl
+messageuri
+nsisupports
+aconsumer
+nsiurllistener
+aurllistener
+nsimsgwindow
+amsgwindow
+nsiuri
+aurl
+nsresult
+rv
+nsensureargpointer
+cancelurl
+nsensureargpointer
+messageuri
+nscomptr
+nsiuri
+url
+rv
+constructnntpurl
+cancelurl
+aurllistener
+amsgwindow
+messageuri
+nsinntpurl
+actioncancelarticle
+getteraddrefs
+url
+nsensuresuccess
+rv
+rv
+rv
+runnewsurl
+url
+amsgwindow
+aconsumer
+nsensuresuccess
+rv
+rv
+aurl
+aurl
+url
+nsifaddref
+aurl
+rv
+nsimethodimp
+nsnntpservice
+getscheme
+nsacstring
+ascheme
+ascheme
+news
+nsok
+nsimethodimp
+nsnntpservice
+getdefaultdobiff
+prbool
+adobiff
+nsensureargpointer
+adobiff
+adobiff
+prfalse
+nsok
+nsimethodimp
+nsnntpservice
+getdefaultport
+print
+adefaultport
+nsensureargpointer
+adefaultport
+adefaultport
+newsport
+nsok
+nsimethodimp
+nsnntpservice
+allowport
+print
+port
+scheme
+prbool
+retval
+retval
+prtrue
+nsok
+nsimethodimp
+nsnntpservice
+getdefaultserverport
+prbool
+issecure
+print
+adefaultport
+nsresult
+rv
+nsok
+issecure
+adefaultport
+securenewsport
+rv
+getdefaultport
+adefaultport
+rv
+nsimethodimp
+nsnntpservice
+getprotocolflags
+pruint
+auritype
+nsensureargpointer
+auritype
+auritype
+urinorelative
+allowsproxy
+nsok
+nsimethodimp
+nsnntpservice
+newuri
+nsacstring
+aspec
+acharset
+nsiuri
+abaseuri
+nsiuri
+retval
+nsresult
+rv
+nscomptr
+nsinntpurl
+nntpurl
+docreateinstance
+nsnntpurlcontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsiuri
+nntpuri
+doqueryinterface
+nntpurl
+rv
+nsfailed
+rv
+rv
+rv
+nntpuri
+setspec
+aspec
+nsensuresuccess
+rv
+rv
+nsaddref
+retval
+nntpuri
+nsok
+nsimethodimp
+nsnntpservice
+newchannel
+nsiuri
+auri
+nsichannel
+retval
+nsresult
+rv
+nsok
+nscomptr
+nsinntpprotocol
+nntpprotocol
+rv
+getprotocolforuri
+auri
+nsnull
+getteraddrefs
+nntpprotocol
+nssucceeded
+rv
+rv
+nntpprotocol
+initialize
+auri
+nsnull
+nsfailed
+rv
+rv
+callqueryinterface
+nntpprotocol
+retval
+nsimethodimp
+nsnntpservice
+setdefaultlocalpath
+nsifilespec
+apath
+nsresult
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nsfailed
+rv
+rv
+prefbranch
+setcomplexvalue
+prefmailrootnntp
+nsgetiid
+nsifilespec
+apath
+nsimethodimp
+nsnntpservice
+getdefaultlocalpath
+nsifilespec
+aresult
+nsensureargpointer
+aresult
+aresult
+nsnull
+nsresult
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nsfailed
+rv
+rv
+prbool
+havepref
+prfalse
+nscomptr
+nsifile
+localfile
+nscomptr
+nsilocalfile
+preflocal
+rv
+prefbranch
+getcomplexvalue
+prefmailrootnntp
+nsgetiid
+nsilocalfile
+getteraddrefs
+preflocal
+nssucceeded
+rv
+localfile
+preflocal
+havepref
+prtrue
+localfile
+rv
+nsgetspecialdirectory
+nsappnewsdir
+getteraddrefs
+localfile
+nsfailed
+rv
+rv
+havepref
+prfalse
+prbool
+exists
+rv
+localfile
+exists
+exists
+nsfailed
+rv
+rv
+exists
+rv
+localfile
+create
+nsifile
+directorytype
+nsfailed
+rv
+rv
+nscomptr
+nsifilespec
+outspec
+rv
+nsnewfilespecfromifile
+localfile
+getteraddrefs
+outspec
+nsfailed
+rv
+rv
+havepref
+exists
+rv
+setdefaultlocalpath
+outspec
+aresult
+outspec
+nsifaddref
+aresult
+rv
+nsimethodimp
+nsnntpservice
+getserveriid
+nsiid
+aserveriid
+aserveriid
+nsiid
+nsgetiid
+nsinntpincomingserver
+nsok
+nsimethodimp
+nsnntpservice
+getrequiresusername
+prbool
+arequiresusername
+nsensureargpointer
+arequiresusername
+arequiresusername
+prfalse
+nsok
+nsimethodimp
+nsnntpservice
+getpreflightprettynamewithemailaddress
+prbool
+apreflightprettynamewithemailaddress
+nsensureargpointer
+apreflightprettynamewithemailaddress
+apreflightprettynamewithemailaddress
+prfalse
+nsok
+nsimethodimp
+nsnntpservice
+getcanloginatstartup
+prbool
+acanloginatstartup
+nsensureargpointer
+acanloginatstartup
+acanloginatstartup
+prfalse
+nsok
+nsimethodimp
+nsnntpservice
+getcandelete
+prbool
+acandelete
+nsensureargpointer
+acandelete
+acandelete
+prtrue
+nsok
+nsimethodimp
+nsnntpservice
+getcanduplicate
+prbool
+acanduplicate
+nsensureargpointer
+acanduplicate
+acanduplicate
+prtrue
+nsok
+nsimethodimp
+nsnntpservice
+getcangetmessages
+prbool
+acangetmessages
+nsensureargpointer
+acangetmessages
+acangetmessages
+prfalse
+nsok
+nsimethodimp
+nsnntpservice
+getcangetincomingmessages
+prbool
+acangetincomingmessages
+nsensureargpointer
+acangetincomingmessages
+acangetincomingmessages
+prfalse
+nsok
+nsimethodimp
+nsnntpservice
+getshowcomposemsglink
+prbool
+showcomposemsglink
+nsensureargpointer
+showcomposemsglink
+showcomposemsglink
+prfalse
+nsok
+nsimethodimp
+nsnntpservice
+getneedtobuildspecialfolderuris
+prbool
+needtobuildspecialfolderuris
+nsensureargpointer
+needtobuildspecialfolderuris
+needtobuildspecialfolderuris
+prfalse
+nsok
+nsimethodimp
+nsnntpservice
+getspecialfoldersdeletionallowed
+prbool
+specialfoldersdeletionallowed
+nsensureargpointer
+specialfoldersdeletionallowed
+specialfoldersdeletionallowed
+prfalse
+nsok
+nsimethodimp
+nsnntpservice
+displaymessageforprinting
+amessageuri
+nsisupports
+adisplayconsumer
+nsimsgwindow
+amsgwindow
+nsiurllistener
+aurllistener
+nsiuri
+aurl
+mprintingoperation
+prtrue
+nsresult
+rv
+displaymessage
+amessageuri
+adisplayconsumer
+amsgwindow
+aurllistener
+nsnull
+aurl
+mprintingoperation
+prfalse
+rv
+nsimethodimp
+nsnntpservice
+streammessage
+amessageuri
+nsisupports
+aconsumer
+nsimsgwindow
+amsgwindow
+nsiurllistener
+aurllistener
+prbool
+aadditionalheader
+nsiuri
+aurl
+nscautostring
+auristring
+amessageuri
+aadditionalheader
+auristring
+findchar
+knotfound
+auristring
+auristring
+auristring
+header
+auristring
+aadditionalheader
+displaymessage
+auristring
+get
+aconsumer
+amsgwindow
+aurllistener
+nsnull
+aurl
+nsimethodimp
+nsnntpservice
+search
+nsimsgsearchsession
+asearchsession
+nsimsgwindow
+amsgwindow
+nsimsgfolder
+amsgfolder
+asearchuri
+nsensurearg
+amsgfolder
+nsensurearg
+asearchuri
+nsresult
+rv
+nsxpidlcstring
+folderuri
+rv
+amsgfolder
+geturi
+gettercopies
+folderuri
+nsensuresuccess
+rv
+rv
+nscautostring
+searchurl
+folderuri
+searchurl
+asearchuri
+nscomptr
+nsiurllistener
+urllistener
+doqueryinterface
+asearchsession
+nscomptr
+nsiuri
+url
+rv
+constructnntpurl
+searchurl
+get
+urllistener
+amsgwindow
+nsnull
+nsinntpurl
+actionsearch
+getteraddrefs
+url
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgmailnewsurl
+msgurl
+doqueryinterface
+url
+msgurl
+msgurl
+setsearchsession
+asearchsession
+rv
+runnewsurl
+url
+nsnull
+nsnull
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsnntpservice
+updatecounts
+nsinntpincomingserver
+anntpserver
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+nsensureargpointer
+anntpserver
+nscomptr
+nsiuri
+url
+nscomptr
+nsimsgincomingserver
+server
+doqueryinterface
+anntpserver
+rv
+nsfailed
+rv
+rv
+server
+nserrorfailure
+nsxpidlcstring
+serveruri
+rv
+server
+getserveruri
+gettercopies
+serveruri
+nsfailed
+rv
+rv
+rv
+constructnntpurl
+serveruri
+nsnull
+amsgwindow
+nsnull
+nsinntpurl
+actionupdatecounts
+getteraddrefs
+url
+nsfailed
+rv
+rv
+rv
+runnewsurl
+url
+amsgwindow
+nsnull
+nssucceeded
+rv
+rv
+nsmsgerroroffline
+nsok
+rv
+nsimethodimp
+nsnntpservice
+getlistofgroupsonserver
+nsinntpincomingserver
+anntpserver
+nsimsgwindow
+amsgwindow
+nsresult
+rv
+nsensureargpointer
+anntpserver
+nscomptr
+nsimsgincomingserver
+server
+doqueryinterface
+anntpserver
+rv
+nsfailed
+rv
+rv
+server
+nserrorfailure
+nsxpidlcstring
+serveruri
+rv
+server
+getserveruri
+gettercopies
+serveruri
+nscautostring
+uristr
+uristr
+serveruri
+uristr
+nscomptr
+nsiurllistener
+listener
+doqueryinterface
+anntpserver
+rv
+nsfailed
+rv
+rv
+listener
+nserrorfailure
+nscomptr
+nsiuri
+url
+rv
+constructnntpurl
+uristr
+get
+listener
+amsgwindow
+nsnull
+nsinntpurl
+actionlistgroups
+getteraddrefs
+url
+nsfailed
+rv
+rv
+rv
+runnewsurl
+url
+amsgwindow
+nsnull
+nsfailed
+rv
+rv
+nsok
+cmdlinehandlerimpl
+nsnntpservice
+news
+general
+startup
+news
+start
+with
+news
+nsnewsstartuphandlercontractid
+news
+cmd
+line
+handler
+prfalse
+prtrue
+nsimethodimp
+nsnntpservice
+getchromeurlfortask
+achromeurlfortask
+achromeurlfortask
+nserrorfailure
+nsresult
+rv
+nscomptr
+nsiprefbranch
+prefbranch
+dogetservice
+nsprefservicecontractid
+rv
+nssucceeded
+rv
+print
+layout
+rv
+prefbranch
+getintpref
+mail
+paneconfig
+layout
+nssucceeded
+rv
+layout
+achromeurlfortask
+plstrdup
+messenger
+content
+messenger
+xul
+achromeurlfortask
+plstrdup
+messenger
+content
+mailpanewindowvertlayout
+xul
+nsok
+achromeurlfortask
+plstrdup
+messenger
+content
+messenger
+xul
+nsok
+nsimethodimp
+nsnntpservice
+handlecontent
+acontenttype
+acommand
+nsisupports
+awindowcontext
+nsirequest
+request
+nsresult
+rv
+nsensureargpointer
+request
+nscomptr
+nsichannel
+achannel
+doqueryinterface
+request
+rv
+nsensuresuccess
+rv
+rv
+plstrncasecmp
+acontenttype
+application
+newsgroup
+nscomptr
+nsiuri
+uri
+rv
+achannel
+geturi
+getteraddrefs
+uri
+nsensuresuccess
+rv
+rv
+uri
+nsxpidlcstring
+uristr
+nscomptr
+nsiwindowmediator
+mediator
+dogetservice
+nswindowmediatorcontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsidomwindowinternal
+window
+nscomptr
+nsimsgfolder
+msgfolder
+nscomptr
+nsinntpprotocol
+protocol
+doqueryinterface
+achannel
+protocol
+protocol
+getcurrentfolder
+getteraddrefs
+msgfolder
+msgfolder
+msgfolder
+geturi
+gettercopies
+uristr
+uristr
+isempty
+nscomptr
+nsimessengerwindowservice
+messengerwindowservice
+dogetservice
+nsmessengerwindowservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+rv
+messengerwindowservice
+openmessengerwindowwithuri
+mail
+pane
+uristr
+get
+nsmsgkeynone
+nsensuresuccess
+rv
+rv
+nserrorwonthandlecontent
+rv
+nsimethodimp
+nsnntpservice
+messageuritomsghdr
+uri
+nsimsgdbhdr
+retval
+nsensureargpointer
+uri
+nsensureargpointer
+retval
+nsresult
+rv
+nsok
+nscomptr
+nsimsgfolder
+folder
+nsmsgkey
+msgkey
+rv
+decomposenewsmessageuri
+uri
+getteraddrefs
+folder
+msgkey
+nsensuresuccess
+rv
+rv
+rv
+folder
+getmessageheader
+msgkey
+retval
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsnntpservice
+downloadnewsgroupsforoffline
+nsimsgwindow
+amsgwindow
+nsiurllistener
+alistener
+nsresult
+rv
+nsok
+nsmsgdownloadallnewsgroups
+newsgroupdownloader
+nsmsgdownloadallnewsgroups
+amsgwindow
+alistener
+newsgroupdownloader
+rv
+newsgroupdownloader
+processnextgroup
+rv
+nserroroutofmemory
+rv
+nsimethodimp
+nsnntpservice
+getcachesession
+nsicachesession
+result
+nsresult
+rv
+nsok
+mcachesession
+nscomptr
+nsicacheservice
+serv
+dogetservice
+kcacheservicecid
+rv
+nsensuresuccess
+rv
+rv
+rv
+serv
+createsession
+nntp
+memory
+only
+nsicache
+storeinmemory
+nsicache
+streambased
+getteraddrefs
+mcachesession
+nsensuresuccess
+rv
+rv
+rv
+mcachesession
+setdoomentriesifexpired
+prfalse
+result
+mcachesession
+nsifaddref
+result
+rv
\ No newline at end of file
@@ -0,0 +1,460 @@
+msgcore
+prlog
+nsisupportsobsolete
+nsiurl
+nsnntpurl
+nsstring
+nsreadableutils
+prmem
+plstr
+prprf
+nscrt
+nsnewsutils
+nsisupportsobsolete
+nntpcore
+nscomptr
+nsxpidlstring
+nsimsgdatabase
+nsmsgdbcid
+nsmsgnewscid
+nsirdfservice
+rdf
+nsimsgfolder
+nsinntpservice
+nsimsgmessageservice
+nsdefinecid
+kcnewsdb
+nsnewsdbcid
+nsnntpurl
+nsnntpurl
+mnewsgrouppost
+nsnull
+mnewsaction
+nsinntpurl
+actionunknown
+madddummyenvelope
+prfalse
+mcanonicallineending
+prfalse
+mfilepath
+nsnull
+mgetoldmessages
+prfalse
+nsnntpurl
+nsnntpurl
+nsifrelease
+mnewsgrouppost
+nsimpladdrefinherited
+nsnntpurl
+nsmsgmailnewsurl
+nsimplreleaseinherited
+nsnntpurl
+nsmsgmailnewsurl
+nsinterfacemapbegin
+nsnntpurl
+nsinterfacemapentryambiguous
+nsisupports
+nsinntpurl
+nsinterfacemapentry
+nsinntpurl
+nsinterfacemapentry
+nsimsgmessageurl
+nsinterfacemapentry
+nsimsginurl
+nsinterfacemapendinheriting
+nsmsgmailnewsurl
+nsimethodimp
+nsnntpurl
+setspec
+nsacstring
+aspec
+nsresult
+rv
+nsmsgmailnewsurl
+setspec
+aspec
+nsensuresuccess
+rv
+rv
+rv
+determinenewsaction
+nsensuresuccess
+rv
+rv
+rv
+nsresult
+nsnntpurl
+determinenewsaction
+nscautostring
+path
+nsresult
+rv
+nsmsgmailnewsurl
+getpath
+path
+nsensuresuccess
+rv
+rv
+strcmp
+path
+get
+mnewsaction
+nsinntpurl
+actionlistgroups
+nsok
+strcmp
+path
+get
+mnewsaction
+nsinntpurl
+actionunknown
+nsok
+plstrcasestr
+path
+get
+part
+plstrcasestr
+path
+get
+part
+mnewsaction
+nsinntpurl
+actionfetchpart
+nsok
+plstrcasestr
+path
+get
+cancel
+mnewsaction
+nsinntpurl
+actioncancelarticle
+nsok
+plstrcasestr
+path
+get
+list
+ids
+mnewsaction
+nsinntpurl
+actionlistids
+nsok
+strchr
+path
+get
+strstr
+path
+get
+mnewsaction
+nsinntpurl
+actionfetcharticle
+nsok
+mnewsaction
+nsinntpurl
+actionunknown
+nsok
+nsimethodimp
+nsnntpurl
+setgetoldmessages
+prbool
+agetoldmessages
+mgetoldmessages
+agetoldmessages
+nsok
+nsimethodimp
+nsnntpurl
+getgetoldmessages
+prbool
+agetoldmessages
+nsensurearg
+agetoldmessages
+agetoldmessages
+mgetoldmessages
+nsok
+nsimethodimp
+nsnntpurl
+getnewsaction
+nsnewsaction
+anewsaction
+anewsaction
+anewsaction
+mnewsaction
+nsok
+nsimethodimp
+nsnntpurl
+setnewsaction
+nsnewsaction
+anewsaction
+mnewsaction
+anewsaction
+nsok
+nsimethodimp
+nsnntpurl
+seturi
+auri
+muri
+auri
+nsok
+nsimethodimp
+nsnntpurl
+geturi
+auri
+nsresult
+rv
+nsok
+muri
+isempty
+nscautostring
+spec
+rv
+getspec
+spec
+nsensuresuccess
+rv
+rv
+muri
+spec
+auri
+tonewcstring
+muri
+auri
+nserroroutofmemory
+rv
+nsimplgetset
+nsnntpurl
+adddummyenvelope
+prbool
+madddummyenvelope
+nsimplgetset
+nsnntpurl
+canonicallineending
+prbool
+mcanonicallineending
+nsimethodimp
+nsnntpurl
+setmessagefile
+nsifilespec
+afilespec
+mmessagefilespec
+afilespec
+nsok
+nsimethodimp
+nsnntpurl
+getmessagefile
+nsifilespec
+afilespec
+afilespec
+afilespec
+mmessagefilespec
+nsifaddref
+afilespec
+nsok
+nsresult
+nsnntpurl
+setmessagetopost
+nsinntpnewsgrouppost
+post
+nslockinstance
+nsifrelease
+mnewsgrouppost
+mnewsgrouppost
+post
+mnewsgrouppost
+nsaddref
+mnewsgrouppost
+nsunlockinstance
+nsok
+nsresult
+nsnntpurl
+getmessagetopost
+nsinntpnewsgrouppost
+apost
+nslockinstance
+apost
+nserrornullpointer
+apost
+mnewsgrouppost
+apost
+nsaddref
+apost
+nsunlockinstance
+nsok
+nsimethodimp
+nsnntpurl
+getmessageheader
+nsimsgdbhdr
+amsghdr
+nsresult
+rv
+nscomptr
+nsinntpservice
+nntpservice
+dogetservice
+nsnntpservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nscomptr
+nsimsgmessageservice
+msgservice
+doqueryinterface
+nntpservice
+rv
+nsensuresuccess
+rv
+rv
+moriginalspec
+isempty
+nserrorfailure
+rv
+msgservice
+messageuritomsghdr
+moriginalspec
+get
+amsghdr
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsnntpurl
+isurltype
+pruint
+type
+prbool
+istype
+nsensurearg
+istype
+type
+nsimsgmailnewsurl
+edisplay
+istype
+mnewsaction
+nsinntpurl
+actionfetcharticle
+istype
+prfalse
+nsok
+nsimethodimp
+nsnntpurl
+getoriginalspec
+aspec
+nsensureargpointer
+aspec
+aspec
+tonewcstring
+moriginalspec
+aspec
+nserroroutofmemory
+nsok
+nsimethodimp
+nsnntpurl
+setoriginalspec
+aspec
+moriginalspec
+aspec
+nsok
+nsimethodimp
+nsnntpurl
+getfolder
+nsimsgfolder
+msgfolder
+nsresult
+rv
+moriginalspec
+isempty
+nserrorfailure
+nscomptr
+nsinntpservice
+nntpservice
+dogetservice
+nsnntpservicecontractid
+rv
+nsensuresuccess
+rv
+rv
+nsmsgkey
+msgkey
+rv
+nntpservice
+decomposenewsuri
+moriginalspec
+get
+msgfolder
+msgkey
+nsensuresuccess
+rv
+rv
+nsok
+nsimethodimp
+nsnntpurl
+getfoldercharset
+acharacterset
+nscomptr
+nsimsgfolder
+folder
+nsresult
+rv
+getfolder
+getteraddrefs
+folder
+nsfailed
+rv
+rv
+nsensuretrue
+folder
+nserrorfailure
+rv
+folder
+getcharset
+acharacterset
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsnntpurl
+getfoldercharsetoverride
+prbool
+acharactersetoverride
+nscomptr
+nsimsgfolder
+folder
+nsresult
+rv
+getfolder
+getteraddrefs
+folder
+nsensuresuccess
+rv
+rv
+nsensuretrue
+folder
+nserrorfailure
+rv
+folder
+getcharsetoverride
+acharactersetoverride
+nsensuresuccess
+rv
+rv
+rv
+nsimethodimp
+nsnntpurl
+getcharsetoverride
+acharacterset
+mcharsetoverride
+isempty
+acharacterset
+tonewcstring
+mcharsetoverride
+acharacterset
+nsnull
+nsok
+nsimethodimp
+nsnntpurl
+setcharsetoverride
+acharacterset
+mcharsetoverride
+acharacterset
+nsok
\ No newline at end of file